@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet6 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7jXYD', 'Rapid', 'kaymoney', 1688, 'Mattheoni', 1714, 'e4,Nf6,d4,Nxe4,Bd3,Nf6,Nf3,g6,Nc3,Bg7,Be3,d5,O-O,Bg4,h3,Be6,Bf4,b6,Nb5,O-O,Nxc7,Nc6,Nxa8,Qxa8,Bb5,Nh5,Bh2,Rc8,a4,Nb4,Bd3,a5,Ne5,Nf6,c3,Nxd3,Qxd3,Ne4,f3,Nd6,Rab1,Bf5,Qd2,Bxb1,Rxb1,Qb7,Qg5', 'f6,Qg4,fxe5', 'https://lichess.org/training/7jXYD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7JymJ', 'Rapid', 'marc_bret', 1830, 'jirka67', 2048, 'd4,Nf6,c4,g6,Nf3,Bg7,g3,O-O,Bg2,d6,O-O,Nbd7,Nc3,e5,dxe5,Nxe5,Nxe5,dxe5,Qxd8,Rxd8,Bg5,Be6,b3,h6,Bxf6,Bxf6,Ne4,Be7,Rfd1,c6,a3,f5,Nc3,Rxd1+,Rxd1,Bxa3,h4,Kf7,e4,Bb4,Ne2,Ke7,f4,exf4,Nxf4,Bf7,exf5,gxf5,Bh3,Rd8,Rxd8,Kxd8,Bxf5,a5,Ne6+,Ke7,Nf4,Kf6,Bc8,b6,Bd7,c5,Bc6,Ke5,Kf2,Kd4,Kf3,Kc3,Ba4,Ba3,Ke4,Kb4,Kf5', 'Bxc4,bxc4,Kxa4', 'https://lichess.org/training/7JymJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7k48S', 'Rapid', 'markinore', 1734, 'Ferdi270691', 1741, 'e4,c5,Nc3,d6,g3,Nf6,Bg2,Nc6,d3,e6,Be3,Qb6,Qc1,Be7,Nge2,O-O,O-O,Ng4,a4,Nxe3,fxe3,Bf6,Ra3,c4,dxc4,Bd7,Rb3,Qc5,Rxb7,Bc8,Rb5,Qxc4,Qd2,Ba6,Rh5,e5,Qxd6,Rad8,Qa3,Be7,Qb3,Qc5,Rf3,Bc4,Qa3,Qb6,Qa1,Rd2,Bf1,Rfd8,b3,Ba6,Nd5,Qc5,Qc3,Qxc3,Nexc3,Bxf1,Rxf1,f6,Rd1,Rxd1+,Nxd1,Ba3,N1c3,Bc5,Kf2,Nb4,Nxb4,Bxb4,Nd5,Bc5,Ke2,Rc8,Rf5,Kf7,g4,Ba3,Kd3,Bc5,g5,Rc6,gxf6,gxf6,Rh5,Kg6,Rh3,Rd6,Rg3+,Kf7,Kc4,Ba3,Rg1,Rc6+,Kd3,Rd6,Ra1,Bb4,Kc4,Bd2,Kc5,Ke6,h3,Kd7,c4', 'Rc6+,Kb5,a6#', 'https://lichess.org/training/7k48S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7k4wU', 'Rapid', 'Lead2000', 1775, 'ShadowGM', 1755, 'e4,c5,Nf3,d6,Bb5+,Nd7,O-O,a6,Bxd7+,Bxd7,d4,cxd4,Nxd4,Nf6,Re1,g6,Bg5,Bg7,Qd2,O-O,Bh6,Rc8,Bxg7,Kxg7,c3,e6,Qg5,Qb6,b3,e5,Nf5+,Bxf5,exf5,h6,Qg3,Nh5,Qg4,Nf4,c4,Qd4,Na3,Qb2,Rad1,Qxa3,g3,Nh5,fxg6,fxg6,Qd7+,Kg8,Rxd6,Nf6,Qe6+,Kg7,Qe7+,Rf7,Qxe5,Re8,Re6,Rxe6,Qxe6,g5,h4,Qxa2,hxg5,hxg5,Qf5,Nh7,Qe5+,Kg6,Qe4+,Kh5,Qh1+,Kg6,Re6+,Kg7,Qh6+,Kg8,Re8+,Rf8,Qg6+,Kh8,Rxf8+,Nxf8,Qh6+,Kg8,Qxg5+,Kf7,Qf5+,Ke8,Qe5+,Kd8,Qd6+,Nd7,Qb4,Qb1+,Kg2,Qe4+,Kg1,Ne5,Qd6+,Kc8,Qf8+,Kc7,Qc5+,Kb8,Qf8+,Ka7,Qc5+,Kb8,Qf8+,Kc7,Qe7+,Kc8,Qf8+,Kd7,Qg7+,Ke6,Qh6+,Ng6,Qh3+,Qf5,Qg2,Qb1+,Kh2,Ne5,Qd5+,Kf5,Qxb7,Ng4+,Kg2,Qe4+', 'Qxe4+,Kxe4,f3+,Kf5,fxg4+', 'https://lichess.org/training/7k4wU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7K7Cs', 'Rapid', 'grandwwwlz', 1867, 'Bari_Kasparov', 1838, 'e4,Nc6,Nf3,e6,d4,d5,e5,Bd7,Be2,Qe7,c3,Nh6,Bg5,f6,exf6,gxf6,Bh4,O-O-O,Ne5,Nf5,Nxd7,Rxd7,Bg3,Nxg3,fxg3,Bh6,b4,Nxd4,cxd4,Qxb4+,Nd2,Qxd4,Nb3,Qc3+,Kf1,Be3,Qd3,Qe5,Rb1,d4,Bf3,c6,Re1,c5,Nd2,Qc7,Nc4,e5,Nxe3,dxe3,Qxe3,Rd4,Kf2,Rhd8,Rd1,Qb6,Rb1,Rd2+,Be2,Qa6,Qxc5+,Kb8,Qe3,Qxa2,Qe4', 'Rxe2+,Qxe2,Rd2', 'https://lichess.org/training/7K7Cs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7K8kh', 'Blitz', 'Priest44', 2495, 'FastBananna', 2489, 'e4,b6,d4,Bb7,Nc3,g6,Be3,Bg7,Qd2,d6,O-O-O,Nd7,h4,h6,h5,g5,f4,gxf4,Bxf4,a6,Nf3,e6,g4,Ne7,g5,hxg5,Bxg5,Bf6,Bxf6,Nxf6,Qf4,Nxh5,Qg5,Qd7,Rxh5,O-O-O,Rxh8,Rxh8,Bg2,Rg8,Qd2,Kb8,e5,dxe5,Nxe5,Qe8,Bxb7,Kxb7,Qf4,Nf5,Qe4+,Kb8,d5,Nd6,Qa4,Qxa4,Nxa4,exd5,Rxd5,Kb7,Nc3,Rg1+,Rd1,Rg5,Nf3,Rg3,Nd4,b5,Rf1,Kb6,Nd5+,Kc5,Nf4,Rg4,Nb3+,Kb6,Nd5+,Kb7,Ne7,Nc4,c3,Rg2,Nc5+,Kb6,Nd3,Rg3,Nb4,Rg2,Nd3,Rg3,Nd5+,Kb7,N5f4,Nd6,Re1,Rg4,Re7,Rg1+,Kc2,Kc6,Ne5+,Kb6,Nd5+,Kc5,Nxc7,Rg2+,Kb3,a5,Nxf7', 'a4+,Ka3,Nc4#', 'https://lichess.org/training/7K8kh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7kbi8', 'Blitz', 'CM mikromurks', 2343, 'Spaltinho', 2181, 'd4,Nf6,c4,c5,Nf3,cxd4,Nxd4,g6,g3,Bg7,Bg2,O-O,O-O,d6,Nc3,a6,b3,Nbd7,Bb2,Rb8,Rc1,Nc5,h3,Nfd7,e4,a5,Kh2,Ne5,Ncb5,Ned3,Rc2,Nxb2,Rxb2,Bd7,Rd2,Qb6,Re1,Rfd8,Nc3,Qb4,Nd5,Qa3,Nxe7+,Kf8,Nd5,b5,Nxb5,Bxb5,cxb5,Rxb5,Re3,Ne6,Red3,Qc5,Rc2,Qa7,h4,Nd4,Rcd2,Ne6,h5,Nc5,Re3,Bh6,Qe2,Rb7,Rf3,Bxd2,Qxd2,Nxe4,Qh6+,Ke8,Re3,f5,Bxe4,fxe4,Rxe4+,Kd7,Qxh7+,Kc8,Qxg6,Rh7,Qg4+,Kb8,Rc4,Rdh8,Nf4,Qd7,Qxd7,Rxd7,Kg2,Rc7,Rd4,Rd7,Nd5,Rxh5,Nf6,Rhh7,Nxd7+,Rxd7,f4,Kc7,Kf3,Kc6,g4,Kc5,Rc4+,Kb5,f5,d5,Kf4,dxc4,bxc4+,Kxc4,f6,Rf7,g5,Kd5,Kf5,Rh7,g6,Rh1,g7,Rg1', 'f7,Rxg7,f8=Q', 'https://lichess.org/training/7kbi8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7KCq6', 'Classical', 'Exchesser', 1944, 'gustavotexas', 1962, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Ne5,Bb3,Bc5,Bf4,Qf6,Be3,d6,Nd2,Ng4,O-O', 'Bxd4,Bxd4,Qxd4', 'https://lichess.org/training/7KCq6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7kcZe', 'Blitz', 'FM Doubleb17', 2365, 'euwe1000', 2225, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Qf3,Qc7,O-O-O,Nbd7,g4,Rb8,Bxf6,Bxf6,g5,Bxd4,Rxd4,b5,Bg2,b4,Nb1,O-O,Rhd1,Qa5,Rxd6,Nc5,a3,bxa3,Qxa3,Qc7,e5', 'Nb3+,Qxb3,Rxb3', 'https://lichess.org/training/7kcZe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7kEZb', 'Rapid', 'Asikar', 1754, 'Ademkrkt19', 1748, 'd4,d5,c4,c6,Nc3,e6,Nf3,Nf6,e3,Nbd7,c5,b6,b4,a5,a3,axb4,Ne2,bxa3,Rxa3,Rxa3,Bxa3,Ba6,Qa4,Bb7,Nc3,Ne4,Nxe4,dxe4,Ne5,Nxe5,dxe5,Qc7,Qxe4,bxc5,Bc4,Qa5+,Ke2,Qxa3,Rb1,Qa7,f4,Be7,f5,exf5,Qxf5,O-O,Qd7,Bg5,Rxb7,Qa3,Bxf7+,Kh8,Qd3,Qa1,e6,Qa2+,Qd2', 'Qa6+,Kf3,Qxb7', 'https://lichess.org/training/7kEZb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7KGod', 'Rapid', 'Classic_namo15', 2019, 'justicechampx', 2007, 'e4,c5,f4,d6,Nf3,Nc6,Bb5,Bd7,O-O,g6,Bxc6,Bxc6,c3,Bxe4,d4,Bg7,Ng5,Bc6,d5,Bd7,Qe2,Nf6,Ne6,fxe6,dxe6,Bc6,f5,Qb6,fxg6,O-O-O,gxh7,Rxh7,Na3,Rdh8,h3,Ne4,Rf7,Bf6,Be3,Ng5,Nc4,Qc7,Bxg5,Bxg5,Qg4,Bf6', 'Rxh7,Rxh7,Qg8+,Qd8,Qxh7', 'https://lichess.org/training/7KGod');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7KhQt', 'Rapid', 'DrMaher', 1683, 'darayavahus', 1647, 'e4,e6,d4,d5,e5,c5,c3,Nc6,f4,Qb6,Nf3,Nh6,Be2,Bd7,O-O,Rc8,Na3,cxd4,cxd4,Nf5,Nb5,Nxe5,fxe5,Bxb5,Bxb5+,Qxb5,a4,Qb6,g4,Ne7,a5,Qb4,Ra4,Rxc1', 'Rxb4,Rxd1,Rxd1', 'https://lichess.org/training/7KhQt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7kj5q', 'Rapid', 'renamed', 1953, 'evp1954', 2038, 'c4,Nc6,d4,e6,d5,Bb4+,Bd2,Bxd2+,Qxd2,Ne5,e4,Qh4,Nc3,Nf6,g3,Qg4,Be2,Qg6,f3,c6,O-O-O,cxd5,cxd5,Rb8,Nh3,exd5,Nf4,Qg5,h4,Qxg3,Ncxd5,Nxd5,Nxd5,Qg6,Qb4,Qh6+,Kb1,d6,f4,Nc6,Qc3,Be6,f5,Bxd5,Rxd5,Qf4,Qxg7', 'Qxe4+,Rd3,Qxh1+', 'https://lichess.org/training/7kj5q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7kjvC', 'Classical', 'jibbpeter', 1810, 'zeljko54', 1790, 'd4,e6,c4,d5,Nc3,Nf6,Bg5,Be7,e3,O-O,Nf3,Nc6,Be2,h6,Bh4,a6,Bxf6,Bxf6,cxd5,exd5,O-O,Re8,Qb3,Ne7,Rac1,c6,Na4,Rb8,Nc5,Bg4,Rfe1,Ng6,h3,Bf5,Nxb7,Qd7,Bxa6,Bxh3,gxh3,Qxh3,Qd1,Re4,Nh2,Nh4,Bf1,Qf5,Nd6,Qg6+,Kh1,Rxb2,Nxe4,Qxe4+,f3', 'Rxh2+,Kxh2,Nxf3+,Qxf3,Qxf3', 'https://lichess.org/training/7kjvC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7kLIS', 'Blitz', 'Binyaminschien', 1958, 'Muhammad_Royyan', 1963, 'e4,c5,d4,d6,Nf3,cxd4,c3,d3,Bxd3,Nf6,e5,dxe5,Nxe5,Nbd7,f4,Nxe5,fxe5,Nd5,O-O,e6,Nd2,Bc5+,Kh1,Ne3,Qf3,Nxf1,Qxf1,O-O,Ne4,Be7,Bf4,b6,Rd1,Bb7,Nf6+,gxf6,Qe1,Qc8,Bxh7+,Kxh7,Qh4+,Kg6,Qg4+,Kh7,Qh5+,Kg7,Rd3,Rh8', 'Rg3+,Kf8,Qxh8#', 'https://lichess.org/training/7kLIS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7kLyi', 'Rapid', 'daraco', 1753, 'vegastar', 1897, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,g6,d3,Bg7,c3,Nge7,Bg5,d5,exd5,exd5,Bb3,O-O,Nbd2,Be6,h3,Qc7,Re1,Nf5,Nf1,h6,Be3,d4,cxd4,Bxb3,Qxb3,cxd4,Bd2,Rac8,Rac1,Qd7,Ng3,Nxg3,fxg3,Rfe8,Bf4,g5,Bd2,Qd6,g4,b6,a3,Ne5,Bb4,Nxf3+,gxf3,Qg3+,Kf1,Qxf3+,Kg1,Qxh3,Qd1,Re3', 'Rxc8+,Kh7,Rxe3', 'https://lichess.org/training/7kLyi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7KsYi', 'Blitz', 'AleksandrAvanesov', 2286, 'NM robertoyepez', 2282, 'e4,d6,Nf3,g6,d4,Bg7,c4,Nc6,Be3,e5,d5,Nce7,a3,Nf6,Nc3,Ng4,Bd3,Nxe3,fxe3,O-O,O-O,a6,b4,b6,Ne2,a5,b5,h6,a4,g5,h3,Qe8,Ng3,Bd7,Nf5', 'Nxf5,exf5,e4', 'https://lichess.org/training/7KsYi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7ktJC', 'Rapid', 'cowcium', 1639, 'Vishianand002', 1653, 'e4,b6,d4,Bb7,d5,e6,c4,c5,Nf3,d6,b4,e5,Nc3,Nf6,Bd3,Bc8,O-O,Be7,b5,Bg4,h3,Bh5,Bc2,Nbd7,Qd3,Bg6,Bg5,O-O,Qe3,Re8,Nh4,Nf8,Nf5,Bxf5,exf5,Qd7,f4,h6,Bxh6,gxh6,Rf3,N8h7,Rg3+,Kh8,fxe5,Nh5,e6,fxe6,fxe6,Qd8,Qxh6,Nf6,Rg7,Bf8', 'Rxh7+,Nxh7,Qxh7#', 'https://lichess.org/training/7ktJC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7kUF9', 'Blitz', 'itqan', 1780, 'Adutadhoet', 1506, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,c3,Nf6,d4,Bb6,d5,Na5,Bb5+,c6,dxc6,bxc6,Bd3,Bg4,b4,Nb7,Bg5,Qe7,Nbd2,Bd8,a4,c5,Bb5+,Kf8,Qb3,Qc7,Nh4,Nh5,Bxd8,Rxd8,f3,Bd7,Bxd7,Qxd7,Rad1,g6,Nc4,Kg7,Nxe5,Qe6,Qxe6,fxe6,Nc6,Rd7,Nxa7,Ra8,Nb5,Rxa4,bxc5,Nxc5,Nxd6,Nf4,g3,Nh5,Kg2,Ra2+,Rf2,Ra3,c4,Rc7,Nb5,Raa7,Nxc7,Rxc7,f4,Nxe4,Re2,Nc3,Rxe6,Nxd1,Nf3,Rxc4,Re7+,Kh6,h3,Ne3+,Kf2,Nd1+,Ke2,Nb2,Ne5,Rc2+,Ke3,Rh2,g4,Rxh3+,Ke4,Ng3+,Kd5,Na4', 'g5+,Kh5,Rxh7#', 'https://lichess.org/training/7kUF9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Kuy3', 'Rapid', 'Babola73', 1940, 'beergarden', 1891, 'f4,d5,Nf3,c5,e3,Nc6,Be2,Nf6,O-O,e6,Qe1,Bd6,Nc3,Nb4,Bd1,O-O,a4,Bc7,d3,a5,e4,d4,Nb5,Bb8,Nh4,Bd7,f5,e5,Qg3,Bxb5', 'Bh6,Nh5,Bxh5', 'https://lichess.org/training/7Kuy3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7KvCL', 'Blitz', 'RichardRe', 1753, 'Batty62', 1696, 'e4,c5,Nf3,Nc6,Nc3,d6,d4,cxd4,Nxd4,g6,Be2,Bg7,Be3,Nf6,f3,O-O,O-O,a6,Nxc6,bxc6,f4,Bb7,f5,Nd7,Qd2,Ne5,Bh6,c5,Bxg7,Kxg7,h4,Qb6,h5,c4+,Kh2,Rad8,f6+,exf6,h6+,Kh8,Rxf6,Bc8,Raf1,Bg4,Nd5,Qb7,b3,Qd7,Bxc4,Be6,Nb6,Qe7,Nd5,Qd7,Be2,Bg4,Kh1,Be6,c4,Qb7,Nf4,Nd7,Nxe6,Nxf6,Nxd8,Rxd8,Rxf6,Qxe4,Rxf7,Re8,Bf3', 'Qh4+,Kg1,Re1+,Qxe1,Qxe1+', 'https://lichess.org/training/7KvCL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7KXqh', 'Rapid', 'Siavash-ir', 1823, 'Reasons', 2173, 'e4,c5,Nc3,e6,Bc4,Nc6,d3,Nf6,Bg5,Be7,Qd2,a6,f3,b5,Bb3,Bb7,h4,Nd4,Nce2,Nxb3,axb3,Qc7,Bf4,e5,Bg5,h6,Be3,d5,exd5,Nxd5,Nh3,Nxe3,Qxe3,O-O-O,Nf2,f5,Nc3,g5,g3,f4,gxf4,exf4,Qe6+,Kb8,O-O-O,Bxf3,Rde1,Bd6,Rhg1,Bc6,hxg5,hxg5,Nfe4,Bd7', 'Qxd6,Qxd6,Nxd6', 'https://lichess.org/training/7KXqh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7kxRH', 'Rapid', 'manuboa', 1943, 'Demidre1', 2009, 'e4,e5,Nf3,Nc6,Bc4,d6,c3,Bg4,h3,Bh5,g4,Bg6,d3,Be7,Be3,Nf6,Bb3,Na5,Bc2,O-O,Nbd2,b5,O-O,c5,Re1,Qc7,Nf1,d5,g5,Nh5,Ng3,Nxg3,fxg3,d4,Bf2,f6,Nh4,Bf7,Nf5,fxg5,g4,Be6,Bg3,Bf6,Rf1,Nc6,Qe2,Kf7,Bh2,Kg6,Bd1,Rh8,Nh4+,Kf7,Nf5,Kg8,Rc1,Ne7,cxd4,Nxf5,Rxc5,Nxd4,Rxc7,Nxe2+,Bxe2,Bxa2,Rfc1,Be6,R1c6,Bb3,Ra6,Bd8,Rcxa7', 'Rxa7,Rxa7,Bb6+,Kg2,Bxa7', 'https://lichess.org/training/7kxRH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7L0Yz', 'Classical', 'Vava194007', 1856, 'Jean-neige', 1789, 'd4,d5,c4,c6,a4,a5,e3,e6,Nc3,Nf6,Nf3,b6,Be2,Bd6,O-O,Bd7,Ne5,Qc7,f4,c5,b3,cxd4,exd4,Nc6,Nb5,Qb8,Nxd7,Nxd7,cxd5,exd5,Bg4,Nf6,Qc2,Nb4,Nxd6+,Qxd6,Re1+,Ne4,Rxe4+,dxe4', 'Qxe4+,Qe7,Qxa8+', 'https://lichess.org/training/7L0Yz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7l4Zo', 'Rapid', 'Ihtiander', 1766, 'snm107', 1921, 'd4,d5,Nf3,Nf6,e3,Bf5,Nbd2,e6,a3,c5,b3,Nc6,Bb2,Rc8,c4,dxc4,Nxc4,cxd4,Nxd4,Nxd4,Bxd4,b5,Ne5,a6,Bd3,Bxd3,Qxd3,Bc5', 'Bxc5,Qxd3,Nxd3', 'https://lichess.org/training/7l4Zo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7l65d', 'Blitz', 'IM dozer01', 2572, 'GM Alexsur81', 2719, 'e4,c5,Nf3,e6,d3,Nc6,Nbd2,Nf6,g3,d5,Bg2,Bd6,O-O,O-O,Re1,Bc7,c3,b5,e5,Nd7,d4,a5,Nf1,cxd4,cxd4,b4,Bg5,Qe8,h4,a4,Rc1,Bb7,h5,h6,Bf4,Nb6,Ne3,Rc8,Bf1,Bb8,Ng4,f5,exf6,Bxf4,gxf4,Qxh5,Nfe5,Nxe5,Rxe5', 'Rxc1,Nxh6+,Qxh6', 'https://lichess.org/training/7l65d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7l6HE', 'Rapid', 'RapRozpierdol', 1646, 'RS2025', 1695, 'f4,c5,Nc3,Nc6,b3,d5,e3,a6,Bb2,Nf6,Nf3,Bg4,Be2,Bxf3,Bxf3,e6,O-O,Be7,d3,d4,exd4,cxd4,Bxc6+,bxc6,Ne4,O-O,f5,e5,a4,Nxe4,dxe4,Bf6,Ba3,Re8,Qd3,a5,Qc4,Rc8,Qc5,g6,fxg6,fxg6,Rad1,Bg7,Rf3,Kh8,c3,Bf8,Rxf8+,Rxf8,Qxe5+,Kg8,Bxf8,Qxf8,cxd4,Re8,Qxa5,Rxe4,d5,Re2,dxc6', 'Qf2+,Kh1,Qxg2#', 'https://lichess.org/training/7l6HE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7L9Jr', 'Rapid', 'VARVAR367', 1665, 'Polygraf', 1680, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,a6,Bc4,Nf6,O-O,Bg4,h3,Bh5,Be2,Nc6,d3,Bxf3,Bxf3,e6,Bxc6+,bxc6,Qf3,Qb6,Ne4,Nxe4,Qxe4,Bd6,b3,O-O,Be3,c5,d4,f5,Qxe6+,Kh8,dxc5', 'Bh2+,Kxh2,Qxe6', 'https://lichess.org/training/7L9Jr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7LbAJ', 'Rapid', 'colibrizurdo1', 1610, 'NinjaPete', 1624, 'e4,e6,Nf3,d5,exd5,exd5,Nc3,c6,d4,Nf6,Bg5,Be7,Qe2,O-O,g3,Bg4,Bg2,h6,Be3,Bb4,O-O,Bxc3,bxc3,Re8,Rab1,b5,Qd3,Qd7,Rfe1,Bf5,Ne5,Rxe5,Qe2,Re8,Qf3,Bxc2,Rbc1,Bd3,Bxh6,Be4,Qf4,gxh6,Qxf6,Qf5', 'Qxf5,Bxf5,Rxe8+', 'https://lichess.org/training/7LbAJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Lc9C', 'Rapid', 'Betancourt1920', 1822, 'islami', 1839, 'e4,e6,d4,d5,exd5,exd5,c4,Bb4+,Nc3,Nf6,Nf3,O-O,Be2,Be6,cxd5,Nxd5,Bd2,Nc6,a3,Ba5,O-O,Bb6,Be3,Qd7,Bb5,f6,Rc1,Rad8,Re1,Qf7,Bd3,Bg4,Nxd5,Qxd5', 'Bc4,Qxc4,Rxc4', 'https://lichess.org/training/7Lc9C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7LdVe', 'Rapid', 'Chess_life2005', 1917, 'novoatual09', 1630, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,b5,Bb3,Bb7,O-O,b4,Nd5,Nxe4,Re1,Nc5,Bg5,Nxb3,axb3,Bxd5,Nb5,Bc6', 'Nxd6+,Qxd6,Qxd6', 'https://lichess.org/training/7LdVe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Le9g', 'Rapid', 'DhafinAulia', 1780, 'Masazn', 1770, 'e4,e5,Nf3,Nc6,Bb5,Bd6,O-O,a6,Bc4,b5,Bd5,Nf6,Bb3,Nd4,Nxd4,exd4,e5,Bxe5,Re1,d6,f4,Bg4,fxe5,Bxd1,exf6+,Kf8,fxg7+,Kxg7,Rxd1,c5,c4,b4,d3,Rg8,Nd2,Kf8,Nf3,Qf6,Re1,Qxf3', 'Bh6+,Rg7,Bxg7+,Kxg7,gxf3', 'https://lichess.org/training/7Le9g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7LeZH', 'Rapid', 'ivarvikings19', 1813, 'leosalazar2001', 1834, 'd4,Nf6,Bf4,e6,e3,c5,c3,a6,Nf3,b5,Nbd2,Bb7,Bd3,h6,a4,cxd4,cxd4,bxa4,Qxa4,Be7,O-O,Nd5,Bxb8,Qxb8,b4,Nxb4,Ne5,Nxd3,Qxd7+,Kf8,Nxd3,Bd5,Rac1,Qb5,Qxb5,axb5,Ne5,f6', 'Ng6+,Kf7,Nxh8+', 'https://lichess.org/training/7LeZH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7LfCd', 'Rapid', 'Servadio', 1951, 'efeequis', 1865, 'c4,c6,Nc3,d5,e4,Nf6,e5,Nfd7,d4,e6,Nf3,Be7,Bd3,O-O,Qc2,h6,O-O,dxc4,Bxc4,Qc7,Be3,c5,d5,exd5,Nxd5,Qd8,Bd3,Nc6,Nxe7+,Qxe7,Qd2,Ncxe5,Nxe5,Nxe5,Bc2,Nc4,Qc3,Nxe3,fxe3,b6,Rae1,Be6,Rf3,Bxa2,Rg3,f6,Qd3,g5,Rh3,Qg7,b3,c4,Qxc4+,Kh8,Ra1,Rac8,Qd3,Rfd8,Qf5,Rc5,Qf2,Ra5,Rf3,f5,Rf1,Qb2', 'Rxf5,Rxf5,Qxf5', 'https://lichess.org/training/7LfCd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7LFQJ', 'Rapid', 'JainJS1947', 2082, 'rodeo', 2080, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,Bc5,O-O,d6,c3,h6,h3,O-O,Be3,Bxe3,fxe3,Na5,Bc2,c5,Nbd2,Nc6,Nh2,d5,exd5,Qxd5,e4,Qd8,Ndf3,Bb7,Qe2,Qc7,a3,Nh5,Qf2,Ne7,Ng4,Ng6,Rad1,Rad8,Bb3,Nhf4,Ne1,c4,dxc4,Rxd1,Bxd1,Qxc4,Nxe5,Qxe4,Nxg6', 'Nxh3+,Kh2,Nxf2', 'https://lichess.org/training/7LFQJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7LgS1', 'Rapid', 'yenyen', 1833, 'bingyi98', 1941, 'd4,Nf6,c3,g6,Bf4,Bg7,e3,d6,Be2,O-O,h4,h5,Nf3,Nbd7,Nh2,Nd5,g4,hxg4,Nxg4,Nxf4,exf4,e5,fxe5,dxe5,dxe5,Nxe5,Nd2,Nxg4,Bxg4,Bxg4,Qxg4,Re8+,Kd1,Qd3,Rc1,Rad8,Rc2,Bh6,f4,Rd6,h5,Bg7,hxg6,Rxg6,Qf3,Re3,Qf1,Qd5,a3,Rd3,Kc1,Rd6,Rh2,b5,Qg2,Qe6,Qf2,Re3,Nf3,c5,Rd2,Rxd2,Qxd2', 'Rxf3,Qd8+,Bf8', 'https://lichess.org/training/7LgS1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7lgvD', 'Rapid', 'tommctrouble', 1705, 'richirf', 1711, 'e4,g6,d4,Bg7,Nf3,d6,Nc3,a6,b3,b5,a3,Bb7,Bb2,Nd7,Rb1,c5,d5,Ngf6,Bd3,O-O,O-O,e5,Ne2,Nh5,c4,f5,Qc2,f4,Kh1,g5,Neg1,g4,Ne1,bxc4,Bxc4,Qh4,Qd3,g3,fxg3', 'Nxg3+,Qxg3,fxg3', 'https://lichess.org/training/7lgvD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7lh2w', 'Rapid', 'vickb', 1691, 'stilton', 1726, 'e4,e5,d3,Nf6,h3,d5,exd5,Nxd5,g3,Be6,Bg2,Nc6,c3,Qd7,Qc2,Ndb4,cxb4,Nxb4,Qc3,Nxd3+,Kf1,Nxb2,Bxb2', 'Qd1+,Qe1,Bc4+,Ne2,Bxe2+,Kg1,Qxe1+', 'https://lichess.org/training/7lh2w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7lJJ3', 'Blitz', 'Ubixa', 2155, 'monica1234', 2025, 'c4,e5,Nc3,Nc6,Nf3,g6,g3,Bg7,Bg2,d6,O-O,Nge7,d3,Be6,Rb1,h6,b4,Qd7,Re1,f5,Qc2,O-O,Nd2,f4,Nd5,Nf5,Nb3,Ncd4,Nxd4,Nxd4,Qd1,c6,Nc3,g5,Ne4,g4,e3,Nf3+,Bxf3,gxf3,exf4,exf4,Bxf4,Bg4,Qd2,Bh5,Kh1,Qh3,Rg1,Rf5,Nxd6,Raf8,Rbe1,Bg4,Nxf5,Rxf5,Re8+,Kh7,Qe3', 'Qxh2+,Kxh2,Rh5#', 'https://lichess.org/training/7lJJ3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7lLYB', 'Rapid', 'fortin', 1701, 'StefanGER', 1663, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,a4,e5,Nf3,Be7,Be3,O-O,h3,Be6,Be2,d5,exd5,Nxd5,Nxd5,Bxd5,Nxe5,Bxg2,Rg1,Qa5+,Qd2,Qxe5,Rxg2,Qxb2', 'Bd4,Qxd4,Qxd4', 'https://lichess.org/training/7lLYB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7lNgh', 'Classical', 'johan007', 1716, 'aliferuz', 1697, 'd4,d5,Bg5,Bf5,e3,g6,Nf3,Bg7,Nc3,Qd6,a3,Nf6,Bf4,Qb6,Rb1,Bg4,h3,Bf5,Bd3,e6,Be5,Nbd7,Bb5,c6,Bd3,O-O,O-O,Nxe5,dxe5,Nd7,Bxf5,exf5,Qd4,Qc7,Qh4,Nxe5,Nxe5,Qxe5,Ne2,d4,Nxd4,Bf6,Nf3,Qd6,Qb4,c5,Qxb7,Rfb8,Rfd1', 'Qxd1+,Rxd1,Rxb7', 'https://lichess.org/training/7lNgh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7lNYa', 'Rapid', 'max_mudry', 1826, 'Chess_is_a_mess', 1841, 'e4,d5,e5,c5,Nf3,Nc6,Bb5,Qb6,Ba4,e6,O-O,Bd7,c3,Nge7,d4,Ng6,dxc5,Bxc5,b4,Be7,Be3,Qc7,Bxc6,Bxc6,Bd4,O-O,Re1,a5,bxa5,Qxa5,Nbd2,Bc5', 'Nb3,Bxd4,Nxa5', 'https://lichess.org/training/7lNYa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7LRQC', 'Blitz', 'Sta-s', 1760, 'ptnhlo', 1708, 'd4,d6,Bf4,Nf6,Qd2,g6,Nc3,Bg7,O-O-O,O-O,Bh6,Nbd7,Bxg7,Kxg7,h4,h5,g4,Nxg4,Bh3,Nxf2,Nf3,Nxd1,Nxd1,Nf6,e4,Bxh3,Rxh3,Nxe4,Qf4,Nf6,Ne3,e5,dxe5,dxe5,Nxe5,Rh8,Rg3,Qc8,Qc4,Qe6,Nf5+,Qxf5', 'Qxf7+,Kh6,Rxg6+,Qxg6,Qxg6#', 'https://lichess.org/training/7LRQC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7lusb', 'Blitz', 'TheMadBishop', 1732, 'PenasChess', 1740, 'c4,e5,Nc3,f5,d3,Nf6,Bg5,Be7,Nf3,O-O,Nxe5,d6,Nf3,b6,e3,Bb7,Be2,Nc6,O-O,Ng4,Bxe7,Qxe7,h3,Nxe3,fxe3,Qxe3+,Kh1,Nd4,Nxd4', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/7lusb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Lx1z', 'Rapid', 'pergus', 1998, 'qnudov', 1806, 'e4,e5,Nf3,d6,h3,h6,Bc4,Nf6,d3,Qe7,O-O,Be6,Bb5+,c6,Ba4,b5,Bb3,Bxb3,axb3,a5,b4,a4,b3,Qb7,bxa4,Rxa4,Rxa4,bxa4,c3,Qa8,Na3,Be7,Nc4,d5,Ncxe5,dxe4,dxe4,a3,Nd2,O-O,Qb3,a2,Bb2,Nbd7,Nxd7,Nxd7,Ra1,c5,Rxa2,Qb7,b5,Ne5,c4,Bf6,Bxe5,Bxe5,f3,Qd7,b6,Rb8,Nf1,Kh8,Rd2,Qc6,Rd5,f6,Qb5,Rxb6,Qxc5', 'Qxc5+,Rxc5,Bd4+,Kh2,Bxc5', 'https://lichess.org/training/7Lx1z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7m0OA', 'Rapid', 'Drahmet1992', 1816, 'sahat30', 1728, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nc3,Qf6,Ncb5,Bxd4,Nxc7+,Kf8,Qe2,Rb8,c3,Be5,Nd5,Qg6,Bf4,Nf6,Bxe5,Nxe5,f3,h5,Qb5,b6', 'Qb4+,Kg8,Ne7+,Kh7,Nxg6', 'https://lichess.org/training/7m0OA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7m0PQ', 'Classical', 'kaxaber_xose', 1690, 'darkvador123', 1836, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Bb5,Bd7,O-O,g6,Be3,Bg7,c3,Nf6,Nd2,O-O,h3,a6,Be2,e5,N4f3,d5,Bc5,Re8,Re1,b6,Be3,dxe4,Ng5,Bf5,g4,Be6,Ndxe4,Nd5,Nxe6,fxe6,Bd2,Qh4,Kh2,Nf6', 'Bg5,Qxg5,Nxg5', 'https://lichess.org/training/7m0PQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7M15h', 'Rapid', 'muttungal', 1950, 'Frozen2020-20', 1606, 'e4,Nf6,e5,Ng4,Qxg4,d6,Qg3,dxe5,Qxe5,Nc6,Qe3,Bg4,f3,Bf5,Bc4,e5,c3', 'Qh4+,Qf2,Qxc4', 'https://lichess.org/training/7M15h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7m3La', 'Rapid', 'souravGH', 1839, 'Antoshka08', 1961, 'c4,e6,g3,d5,e3,Nf6,Nc3,Be7,b3,O-O,Bg2,c5,cxd5,exd5,d4,cxd4,exd4,Bb4,Bd2,Re8+,Nge2,Qe7,O-O,Bxc3,Nxc3,Nc6,Nxd5,Nxd5,Bxd5,Nxd4,Be3,Nf5,Re1,Be6,Be4,Nxe3,Rxe3,Rad8,Qf3,Qd6,Bxb7,Qd4,Rae1,Kf8,Rxe6', 'Rxe6,Rxe6,Qd1+,Kg2,Qxf3+,Kxf3,fxe6', 'https://lichess.org/training/7m3La');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7M6oD', 'Classical', 'ADSSchachspieler', 2239, 'Trrak55', 2360, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nge2,O-O,f3,Nfd7,Be3,e5,g4,f5,gxf5,gxf5,Rg1,Kh8,exf5,exd4,Nxd4,Ne5,f4,Nec6,Nd5,Na6,Nxc6,bxc6,Rxg7,Kxg7,Bd4+,Kh6,Qg4,Qe8+,Kd1,Qh5', 'Bg7#', 'https://lichess.org/training/7M6oD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7M7oW', 'Rapid', 'Rasulov69', 2068, 'BayUfuk10', 2066, 'd4,Nf6,Nf3,e6,c4,d5,Nc3,Be7,Bg5,h6,Bxf6,Bxf6,e4,dxe4,Nxe4,Be7,a3,a5,g3,b6,Bg2,Bb7,Ne5,Nd7,Qa4,f5,Nc5,Bxg2,Ncxd7,Bxh1,Nxb6+,Kf8,Nxa8,Qxa8,Ng6+,Kf7,Nxh8+,Qxh8,O-O-O,Bf3,Re1,Qa8,d5,exd5,Qd7,Qf8,cxd5,g6,Qe6+,Ke8,Qxg6+,Kd8,Kb1,Bxd5', 'Rd1,Bd6,Rxd5', 'https://lichess.org/training/7M7oW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7mAyk', 'Rapid', 'davided', 1766, 'diecar2002', 1865, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bg4,c3,Nf6,Re1,a6,Ba4,Be7,d4,b5,Bc2,O-O,d5,Na7,b3,c6,c4,h6,h3,Bh5,Be3,Bg6,Nbd2,c5,Nh4,Bh7,Nf5,Bxf5,exf5,Nh7,Ne4,Ng5,Nxg5,Bxg5,Qg4,Bxe3,Rxe3,Qf6,h4,e4,Rxe4,Qxa1+,Kh2,Qf6,h5,Rfe8,Kh3,Re5,Rf4,Rae8,g3,Qg5,Qf3,Re2,f6,Rxc2,fxg7,Re7,g4,Qxg7,Kg3,Rb2,Rf5,Kf8,Qf4,Nc8,Rf6,Rxa2,Rxh6,bxc4,bxc4,a5,Rf6,a4,Qf5,Re8', 'h6,Qxf6,Qxf6', 'https://lichess.org/training/7mAyk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7meuL', 'Blitz', 'B-S-TCHESSPLAYER', 1983, 'Bionic_Crocodile', 2006, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be2,O-O,Bg5,c5,d5,e6,Nf3,exd5,exd5,Re8,O-O,h6,Be3,Bf5,Qd2,Ne4,Nxe4,Bxe4,Bxh6,Nd7,Bxg7,Kxg7,a3,Rh8,Qg5,f6,Qg3,Ne5,Nxe5,dxe5,Rfd1,Qd7,b4,Rh6,bxc5,Rah8,h3', 'Rxh3,gxh3,Rxh3,Qg2,Bxg2', 'https://lichess.org/training/7meuL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7mfeG', 'Blitz', 'vladislav2008', 1854, 'CARLOSAMERICANO', 1697, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,Bf4,Bb4+,Nc3,Qe7,Qd5,Bxc3+,bxc3,Qa3,Bd2,O-O,Qe4,f5,Qd5+,Kh8,h3,Nh6,g4,f4,Rd1,d6,exd6,cxd6,Qe4,Ne5,Nxe5,dxe5,Qxe5,Bd7,Bxf4,Nf7,Qd4,Bc6,Rg1,Rfd8,Qe3,Rxd1+,Kxd1,Qxa2,Bg2,Qa1+,Qc1,Rd8+,Bd2', 'Ba4+,Ke1,Qxc1+,Bxc1,Rd1#', 'https://lichess.org/training/7mfeG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Mivm', 'Blitz', 'luna01', 1581, 'Tjain99', 1582, 'e4,e5,Bc4,Nc6,a3,d6,d3,f5,Nc3,Nf6,f3,Qe7,Bg5,h6,Bh4,g5,Bg3,f4,Bf2,Be6,Nd5,Bxd5,exd5,Nd4,Ne2,c5,c3,a6,cxd4,b5,Ba2,exd4,O-O,O-O-O,Nxd4,cxd4,Kh1,g4,Bxd4,gxf3,Rxf3,Rg8,Qe1,Qf7,Rxf4,Be7,Rc1+,Kb7,Bxf6,Bxf6,Qe6,Qg6,Rg1,Rde8,Qxd6', 'Qxg2+,Rxg2,Re1+,Rf1,Rxf1+,Rg1,Rfxg1#', 'https://lichess.org/training/7Mivm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Mk26', 'Blitz', 'Peppa_Pig_0', 2396, 'Fruskagora2020', 2387, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Bc4,O-O,Bb3,d6,f3,Bd7,h4,Qa5,h5,Nxh5,g4,Nf6,Qd2,Rfc8,O-O-O,Ne5,Qh2,Nc4,Bxc4,Rxc4,Nb3,Qd8,Nd5,Rac8,Nxf6+,exf6,Qxh7+,Kf8,Bh6,Rxc2+,Kb1,Bxh6,Qxh6+,Ke7,Qf4,Be6,g5,f5,Nd4,Qa5,Nxf5+,gxf5', 'Qxd6+,Ke8,Rh8#', 'https://lichess.org/training/7Mk26');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7mKeX', 'Rapid', 'lima84', 1977, 'ozkchess', 1965, 'e4,d5,exd5,Nf6,Nf3,Nxd5,Nc3,Nxc3,bxc3,Bg4,Be2,c5,h3,Bh5,O-O,Nc6,Ba3,e6,Rb1,b6,Nh2,Bg6,Bf3,Qc7,Ng4,Bd6,d4,Rc8,d5,Ne5,Nxe5,Bxe5,c4,O-O,Bb2,Bxb2,Rxb2,Qe5,Rb3,Rcd8,Re1,Qf6,d6,Qf4,Be2,Rxd6,Bd3,Bxd3,cxd3,Rfd8,Qc2,e5,Re4,Qf5,Qe2,f6,f4,exf4', 'Re8+,Kf7,Qe7+,Kg6,Rxd8', 'https://lichess.org/training/7mKeX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7MklE', 'Blitz', 'Nazwin2020', 2297, 'passedpawnindia', 2102, 'e4,c6,d4,d5,e5,c5,Nf3,Nc6,Bb5,e6,c3,Bd7,Ba4,Nge7,O-O,Nf5,Bc2,Nh4,Nxh4,Qxh4,Be3,cxd4,cxd4,Be7,f4,g6,a3,O-O,Nc3,h5,Qd2,Bd8,f5,gxf5,Rf3,Bb6,Rg3+,Kh7,Rh3,Qxh3,gxh3,Rg8+,Kf2,Rg6,Ne2,Rag8,Nf4,R6g7,Rc1,Be8,Qd1,Rh8,Nxh5,Rg6,h4,Kg8,Nf6+,Kf8,h5,Rg7,Qd2,f4,Bxf4,Bxd4+,Be3,Bxe5,Qb4+,Nxb4', 'Bc5+,Bd6,Bxd6#', 'https://lichess.org/training/7MklE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7MkTb', 'Rapid', 'Yory21', 1688, 'xxjanixx', 1758, 'f4,g6,e4,Bg7,e5,e6,d4,d6,Nf3,dxe5,fxe5,Nd7,Bg5,Ne7,Nc3,O-O,Ne4,a6,c3,b5,a3,Bb7,Bd3,Rc8,Nf6+,Nxf6', 'exf6,Bxf6,Bxf6', 'https://lichess.org/training/7MkTb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7MQa0', 'Blitz', 'IM Arystanner23', 2604, 'WCM Wissal03', 2118, 'g3,Nf6,Bg2,g6,Nf3,Bg7,O-O,O-O,d4,d6,c4,c5,dxc5,dxc5,Qxd8,Rxd8,Nc3,Nc6,Be3,Be6,Bxc5,Bxc4,Rfd1,Nd7,Ba3,Bxc3,bxc3,Bxe2,Re1,Bxf3,Bxf3,Nde5,Bg2,Rd3,f4,Nf3+,Bxf3,Rxf3,Bxe7,Rxc3,Bf6,Rc2,a4,h5,Rad1,Ra2,Rd7,Rxa4,Rxb7,Nd4,Reb1,Nc6,Rc7,Rc4,Rbb7,Rf8,Rxa7,Nxa7,Rxc4,Nc8,Rd4,Re8,Kf2,Kh7,h3,Re6,Bd8,Nd6,g4,hxg4,hxg4,f5,g5,Ne4+,Kf3,Rd6,Rxd6,Nxd6,Bf6,Ne4,Be5,Kg8,Ke3,Kf7,Kd4,Ke6,Kc4,Nd2+,Kd3,Ne4,Bb8,Kd5,Ke3,Kc4,Bc7,Kc3,Be5+,Kc2,Kd4,Kd2', 'Kd5,Nf2,Ke6', 'https://lichess.org/training/7MQa0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7MR8s', 'Blitz', 'FM XocasLT', 2482, 'WPC', 2412, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Bd3,Nc6,Be3,d5,exd5,Nxd5,Nxc6,bxc6,Bd2,Be7,O-O,O-O,c4,Nf6,Bc3,Rb8,Qc2,h6,Nd2,Qc7,Nf3,Nd7,Rfe1,Bf6,b3,Bxc3,Qxc3,c5,Be4,Nf6,Rad1,Bd7,Ne5,Rbd8,Bc2,Bc6,Qg3,Rxd1,Rxd1,Rd8', 'Rxd8+,Qxd8,Nxc6', 'https://lichess.org/training/7MR8s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7MVWb', 'Rapid', 'cthuwu', 1706, 'Pielmeisies', 1733, 'e4,d6,d4,Nf6,Nc3,Nbd7,Nf3,e5,dxe5,dxe5,Bc4,Be7,O-O,h6,b3,c6,Bb2,b5,Bd3,Qc7,Re1,Nc5,Ne2,Bd6,Ng3,Nxd3,Qxd3,Be6,Red1,Rd8,Qc3,Nd7,a3,a5,Rd2,O-O,Rad1,Nc5,b4', 'Na4,Qxe5,Bxe5', 'https://lichess.org/training/7MVWb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7my9F', 'Blitz', 'ddscapone', 1775, 'besik79', 1733, 'e4,e5,Bc4,Nf6,d3,Bc5,Nf3,d6,Bg5,Bg4,Nbd2,Nc6,c3,Qd7,h3,Be6,Bb5,a6,Ba4,b5,Bc2,O-O-O,b4,Bb6,a4,bxa4,Bxa4,h6,Bxf6,gxf6,b5,Na5,bxa6,Qe7,O-O,Rhg8,Kh2,c6,Qb1,Kc7,d4,Qd7,d5,Bxh3,gxh3,Rg5,Nxg5,hxg5,c4,Rh8,Qd3,g4,Kg2,gxh3+,Kh2,Qg4,Rg1,Qf4+,Kh1,Bxf2,Raf1,h2,Rg7,Qh4,Rxf7+,Kb6,Qb1+,Kc5,Nf3,Qg3,Qd3', 'Qg1+,Rxg1,hxg1=Q#', 'https://lichess.org/training/7my9F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7N1Bk', 'Rapid', 'steinkora', 1926, 'dieunisos', 1715, 'e4,e5,Nf3,Nc6,Bb5,Nge7,d3,d6,Nc3,Bd7,Bc4,h6,d4,exd4,Nxd4,Nxd4,Qxd4,Nc6,Qd1,Ne5,Bd5,c6,Bb3,Be6,Bxe6,fxe6,Bf4,Qf6,Bg3,O-O-O,Qd4', 'Nf3+,gxf3,Qxd4', 'https://lichess.org/training/7N1Bk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7N5cA', 'Blitz', 'ludiavelarrrr', 1615, 'cotofmann', 1610, 'Nf3,a6,g3,g6,Bg2,Bg7,c4,d6,d4,Nc6,e4,Nf6,Nc3,Bg4,O-O,O-O,h3,Bd7,Bg5,h6,Be3,e5,d5,Na7,Qd2,g5,h4,Nh5,hxg5,hxg5,Bxg5,f6,Be3,Bg4,Kh2,Kf7,Bh3,Rh8,Rh1,Bxh3,Kxh3', 'Nf4+,Kg4,Qc8#', 'https://lichess.org/training/7N5cA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7n6vA', 'Rapid', 'Julian09', 1845, 'diego1975', 1781, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,Qf6,Qd2,Qxc6,Nc3,Bb4,Bd3,Bxc3,bxc3,Ne7,O-O,O-O,Qg5,Ng6,e5,Qxc3,Bd2,Qxe5,f4,Qxg5,fxg5,d5,Rae1,c6,Bxg6,fxg6,Re7,b5,Bc3,Rxf1+,Kxf1,Bf5,Rxg7+,Kf8,Rxh7,Rc8,Rxa7,Bxc2,Bf6,b4,Rh7,b3', 'Rh8+,Kf7,Rxc8', 'https://lichess.org/training/7n6vA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Na9p', 'Rapid', 'jaquemarzen', 1683, 'TbirdV', 1647, 'e4,e6,e5,d5,d4,c5,Be3,cxd4,Bxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,c3,Ne7,Qf3,Nf5,Ne2,Nxd4,Nxd4,Bc5,O-O,O-O,b4,Bxd4,cxd4,a5,bxa5,Qxa5,Nc3,b5,h3,b4,Ne2,Bb5,Nf4,Bxf1,Rxf1,Qxa2,Qg3,b3,Nh5,g6,Nf6+,Kg7,h4,b2,h5,b1=Q,Rxb1,Qxb1+,Kh2,Qf5,h6+,Kxh6', 'Qh4+,Qh5,Nxh5', 'https://lichess.org/training/7Na9p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7nD4y', 'Rapid', 'TroubleMaker2', 1609, 'Dmitriy50V', 1768, 'Nf3,d5,d4,Nc6,g3,Bf5,c3,Nf6,Bg2,h6,a4,e6,O-O,g5,Na3,a6,Be3,Ne4,Ne5,Bd6,Nxc6,bxc6,f3,Nxg3,hxg3,Bxg3,Bf2,Bd6,Be1,g4,Kf2,g3+,Ke3,Qg5+,f4,Bxf4+,Rxf4,c5,Nc2,e5,dxe5,Bxc2,Qxc2,Qxe5+,Kf3,Qh5+,Ke3,O-O,Qf5,Rae8+,Kd3', 'Qxe2#', 'https://lichess.org/training/7nD4y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7nd5C', 'Blitz', 'Rotterdammerr', 1885, 'cheombou', 1805, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,d6,Bc4,e6,O-O,Be7,Qe2,Nf6,Rd1,O-O,e5,Ne8,exd6,Bxd6,Bg5,f6,Bxe6+,Bxe6,Qxe6+,Kh8,Bf4,Ne5,Nxe5,fxe5,Bxe5,Qb6,Bxd6,Qxf2+,Kh1,Nxd6,Qxd6,Qxb2,Ne4,Rae8,Ng3,Rf2,Qd7,Ref8,Rab1,Qe2,Qxb7,h6,Re1,Qd2,Nh5', 'Qxe1+,Rxe1,Rf1+,Rxf1,Rxf1#', 'https://lichess.org/training/7nd5C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7nE1i', 'Rapid', 'Igor-Kz', 1833, 'mohamed_nour11', 1807, 'e4,e6,d4,c5,Nf3,Nf6,Bg5,Be7,Nbd2,Nc6,dxc5,Qa5,Bd3,Qxc5,O-O,Nd4,Nb3', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/7nE1i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7NewY', 'Rapid', 'gmbtoxopeus', 1671, 'Gereloco', 1774, 'e4,e5,d4,exd4,Qxd4,Nc6,Qd1,d6,c3,Nf6,f3,a6,Bg5,Be7,Bd3,O-O,Ne2,h6,Bh4,Ne5,O-O,Nxd3,Qxd3,c6,Nd2,Qb6+,Kh1,Qxb2,Nc4,Qb5,Rab1,Qh5,Bxf6,Bxf6,Ng3,Qc5,Rfe1,b5,Nxd6,Bxc3,Rec1,Qd4', 'Rxc3,Qxd3,Rxd3', 'https://lichess.org/training/7NewY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7NkYD', 'Rapid', 'Becri', 1973, 'Mathetes', 2042, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Nc6,Nc3,Bg7,Be3,Nf6,Bc4,O-O,O-O,d6,f4,Ng4,Nxc6,bxc6,Bd4,e5,fxe5,dxe5,Bc5,Qh4,h3,Rd8,Qf3,Nh6,Bxf7+,Kh8,Rad1,Ba6,Rfe1,Nxf7,Qxf7,Qf4,Qc7,Rdc8,Qa5,Bc4,Be3,Qg3,Qc5,Be6,Qd6,Bxh3,Re2,Bxg2,Rxg2,Qxe3+,Rf2,Rf8,Rf1,Qg3+,Rg2,Rxf1+,Kxf1,Rf8+', 'Qxf8+,Bxf8,Rxg3', 'https://lichess.org/training/7NkYD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7nl2l', 'Blitz', 'xXm8Xx', 1780, 'cerealskiller', 1683, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,c3,h6,d4,exd4,cxd4,Bb4,Bd2,Bxd2,Qxd2,O-O,e5,Nh7,Bd3,d5,Qc2,Ng5,Nxg5,Qxg5,Rd1,Nxd4,Bh7+,Kh8,Rxd4,g6,Bxg6,fxg6,Rxd5,Bh3,g3,Qg4,Nd2,Qe2,Qxg6', 'Qxf2+,Kh1,Bg2#', 'https://lichess.org/training/7nl2l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7NL5z', 'Blitz', 'timur816', 2007, 'sin21', 2020, 'd4,Nc6,Nf3,d5,Bf4,f5,c3,e6,Nbd2,Bd6,Bg5,Nf6,e3,O-O,Bd3,Ne7,Qe2,c6,Rg1,Ne4,Bh4,Kh8,h3,Qe8,g4,g6,gxf5,exf5,O-O-O,Ng8,Bg3,Bxg3,fxg3,b5,Kb1,Ngf6,g4,fxg4,hxg4,Bxg4,Qg2,Bxf3,Nxf3,Nh5,Ne5,Qe6,Bxe4,dxe4,Qxe4,Rae8,Rh1,Rf5,Rdg1,Rxe5,dxe5,Qxe5,Qb4,Qxe3,Ka1,Nf4,Qd6,Re6', 'Qf8#', 'https://lichess.org/training/7NL5z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7nomz', 'Rapid', 'nacho-escarabajo', 1678, 'jaw7388', 1662, 'e3,d5,c4,e6,Nc3,Nf6,Qa4+,c6,cxd5,exd5,Qf4,Be7,Nf3,O-O,Bd3,Bd6,Qa4,b5,Qc2,b4,Ne2,c5,Ng5,g6,Ng3,c4,Be2,Bxg3,hxg3,Nbd7,d3,Ne5,dxc4,Bf5,Qb3,dxc4,Qxb4,a5,Qc5,Ned7,Qxc4,Rc8,Qh4,Nh5,Bxh5,gxh5,Qxh5,Nf6,Qf3,Bg4,Qxg4,Nxg4,Rxh7,Qxg5,e4,Qb5,Rh4,Ne5,Bf4,Nd3+,Kd2,Nxb2', 'Rg4+,Kh7,Rh1+,Qh5,Rxh5#', 'https://lichess.org/training/7nomz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7NtdH', 'Blitz', 'Dmitry_Gritsenko', 2494, 'FM mux77', 2436, 'e4,c6,Nc3,d5,Qe2,d4,Nd1,e5,g3,Bd6,Bg2,Be6,d3,Qc7,Nf3,f6,O-O,Ne7,Nh4,g5,Qh5+,Kd7,Nf5,Nxf5,exf5,Bg8,f4,gxf4,gxf4,Na6,Nf2,Bd5,Ne4,Bxe4,Bxe4,Rag8+,Kh1,Nc5,Qf7+,Be7,fxe5,Nxe4,Qe6+,Kd8,dxe4,Qxe5,Qxe5,fxe5,Bh6,Bf6,Rg1,Ke7,Rxg8,Rxg8,Rg1,Rd8,Rg3,c5,b3,b5,Kg2,c4,Kf2,a5,Ke2,a4,bxc4,bxc4,Ra3,Ra8,Bd2,Kd7,Rh3,Rh8,Bb4,Kc6,Rh6,Kb5,a3,Bg5,Re6,Rd8,Rxe5+,Kc6,Rd5', 'Rxd5,exd5+,Kxd5', 'https://lichess.org/training/7NtdH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7NTit', 'Rapid', 'oto101', 1699, 'kally', 1697, 'e4,e5,Nf3,Nf6,Bc4,Nc6,Ng5,Bc5,Nxf7,Bxf2+,Kxf2,Nxe4+,Ke3,Qf6,Rf1,Qg6,Nxh8,Qxg2,Qh5+,g6,Qxh7,Qg5+,Kxe4,d5+,Bxd5,Bf5+,Rxf5,Qxf5+,Ke3,Qf4+,Kd3,Nb4+,Ke2,Qg4+,Bf3,Qc4+,d3,Qxc2+,Kf1,Qxc1+,Kg2,Qg5+,Kh3,Qf5+,Bg4,Qxd3+,Kh4', 'g5+,Kxg5,Qxh7', 'https://lichess.org/training/7NTit');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7NUhZ', 'Rapid', 'nevland0012', 1926, 'keivaneng', 1982, 'c4,e6,Nc3,Nc6,g3,d5,Bg2,dxc4,Nf3,a6,a4,Nf6,O-O,Bc5,e3,O-O,Ne1,Ne5,Ne4,Nxe4,Bxe4,f5,Bg2,c6,Qc2,Rb8,d4,cxd3,Qxc5,d2,Qxe5,d1=Q,b3,Bd7,Bb2,Qg4,Rd1,Qe7,Rd4,Qg6,Ba3,Qxa3,Rxd7,Qxb3,Nf3,Qf6,Qd6,Qd5,Qc7,Qc5,Nd4,Rfc8,Rxg7+,Qxg7', 'Qxg7+,Kxg7,Nxe6+,Kf6,Nxc5', 'https://lichess.org/training/7NUhZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7nuvb', 'Blitz', 'balans777', 2121, 'Kogabaev-72', 2051, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,Nxe4,d5,Bc5,Be3,Bxe3,fxe3,Ne7,Nxe5,d6,Nf3,Nf5,Qd3,Ng5,Nbd2,O-O,O-O-O,Re8,e4,Nh6,h3,Qe7,Re1,c6,c4,cxd5,exd5', 'Qxe1+,Nxe1,Rxe1+,Kc2,Bf5', 'https://lichess.org/training/7nuvb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7nVSn', 'Rapid', 'SACS', 1857, 'Callanad', 1866, 'e4,c6,Nf3,d5,e5,Bg4,d4,e6,Be2,Ne7,Nbd2,c5,c3,Nf5,b3,Nc6,Bb2,a5,a4,cxd4,cxd4,Nb4,O-O,Rc8,Bb5+,Nc6,Re1,Bb4,Re2,O-O,Nf1,Bxf3,gxf3,Qg5+,Ng3,Nh4,Rc2,Ne7,Bc1,Qg6,Bd3,Nef5,Kh1,Rxc2,Bxc2,Bc3,Rb1,Rc8,Be3,Nxg3+,fxg3,Nf5,Bf2,Qg5,h4,Qg6', 'g4,Qh6,gxf5', 'https://lichess.org/training/7nVSn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7NX7V', 'Rapid', 'MaoTzeDung', 1922, 'agusbon3212', 1835, 'f4,d5,c4,d4,d3,c5,e4,dxe3,Bxe3,Nf6,Be2,e6,Nc3,Nc6,Qd2,Be7,Nf3,b6,O-O,Bb7,h3,O-O,g4,Nd4,b3,a6,Bxd4,cxd4,Na4,a5,Nb2,Bc5,a3,Qd6,a4,Rad8,Nd1,Nd7,Nf2,e5,f5,f6,Ne4,Bxe4,dxe4,Qc6,Bd3,Nb8,Kg2,Na6,Ne1,Bb4,Qe2,Nc5,Nc2,Nxb3,Nxb4,axb4,Rab1,Nc5,Rxb4,Ra8,Rfb1,Nxa4,Ra1,Nc3,Qb2,Nxe4', 'Rxb6,Qc8,Bxe4', 'https://lichess.org/training/7NX7V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7nXvk', 'Rapid', 'arcygamrat', 1641, 'Gravalanche', 1639, 'e4,c5,Nc3,Nc6,d3,e5,Nf3,Be7,b3,Nf6,Ba3,O-O,Nd5,Nxd5,exd5,Qa5+,Qd2,Qxa3,dxc6,bxc6,Nxe5,Bf6,Nc4,Qa6,d4,Bxd4,Nd6,Qb6,Nxc8,Raxc8,c3,Rfe8+,Be2,Bxf2+,Kxf2,c4+,Ke1,cxb3,Rb1,bxa2,Qxa2,Qe3,Rf1,Qxc3+,Kd1,Re7,Rf3,Qe5,Bc4,Qe1+,Kc2,Re2+,Bxe2,Qxe2+,Kb3,Rb8+,Ka3', 'Qa6#', 'https://lichess.org/training/7nXvk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7nY6k', 'Blitz', 'Mihailopusara', 2034, 'mat06000', 2031, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Nf3,Bg4,Be2,e6,O-O,c6,Bf4,Nbd7,h3,Bh5,Qd3,Bg6,Qd1,Ne4,Nxe4,Bxe4,Ne5,Be7,Bf3,Bxf3,Qxf3,Nxe5,Bxe5,O-O,Qg4,g6,f4,c5,f5,exf5,Rxf5,cxd4,Rh5,Qb6,Bxd4,Qc7,Re5,Bf6,Re2,Bxd4+,Qxd4,Rad8,Qxa7,Rfe8,Rae1', 'Rxe2,Rxe2,Rd1+,Re1,Rxe1+', 'https://lichess.org/training/7nY6k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7o219', 'Blitz', 'WizWhys', 1610, 'sebasfei89', 1699, 'e4,c5,Nf3,Nc6,Bb5,Qb6,Nc3,e6,Bxc6,Qxc6,d4,Nf6,d5,exd5,Nxd5,Nxe4,O-O,Bd6,Re1,f5,Nc3,O-O,Nxe4,fxe4,Ng5,Re8,Qg4,b6,Nxe4,Bb7,Nf6+,Kf7,Rxe8,Rxe8,Nxe8,Kxe8,Bg5,Kf7,Re1,Kg8,f3,Qd5,Qe4,Qxg5,Qe8+,Bf8,Re5,Qf6,g4,Qxf3,Rf5,Qd1+,Kf2,Qxc2+,Kg3,Qd3+,Kh4,Qd6', 'Qf7+,Kh8,Qxf8+,Qxf8,Rxf8#', 'https://lichess.org/training/7o219');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7o4ow', 'Rapid', 'fabricioceballos', 1876, 'Offshore_Transition', 1881, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,Be3,d6,h3,Na5,Bb3,Nxb3,axb3,b6,c3,Bb7,Nbd2,Qd7,Qc2,O-O,O-O,a5,Ra2,Ba6,Rfa1,h6,b4,a4,Rxa4,Bb7,Rxa8,Rxa8,Rxa8+,Bxa8,d4,exd4,cxd4,d5,e5,Ne4,Nxe4,dxe4,Nd2,Bxb4,Nxe4,Qd5,f3,Qd8,Qc4,Be7,Bf4,Kh8,e6,fxe6,Qxc7,Qxd4+,Kh2,Bc5,Qb8+,Kh7,Qxa8,Qg1+,Kg3,Qe1+,Kg4,g5,Qb7+,Kg6,Nxg5', 'h5#', 'https://lichess.org/training/7o4ow');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7O5uW', 'Rapid', 'delzolal', 1651, 'Backa', 1619, 'd4,d5,e3,Bf5,Bd3,Bxd3,Qxd3,c6,Nf3,Nf6,a3,e6,b4,Nbd7,Bb2,Rc8,Nbd2,Be7,h3,b6,c4,c5,dxc5,bxc5,bxc5,Nxc5,Qd4,dxc4,Qxd8+,Rxd8,Nxc4,Nd3+,Ke2,Nxb2,Nxb2,O-O,Rhd1,Rb8,Nd3,Ne4,Nb4,Nc3+,Ke1,Nxd1,Rxd1,Bxb4+,axb4,Rxb4,Rd7,a5,Ra7,a4,Nd4,Rfb8,Ke2,Rb2+,Kf3,e5,Nc6,R8b6', 'Ra8+,Rb8,Nxb8', 'https://lichess.org/training/7O5uW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7O65y', 'Rapid', 'Reddek', 1900, 'dandankia', 1888, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,Nxe4,O-O,Bxc3,bxc3,d5,Re1,O-O,Bd3,f5,c4,dxc4,Bxc4+,Kh8,d5,Na5,Bb5,Nc3,Qd2,Nxb5,Qxa5,Qxd5,Bb2,c6,Rad1,Qg8,a4,b6,Qd2,Nc7,Re7,Ne6,Ne5,Ba6,Ng6+,hxg6,Rxe6,Qxe6', 'Qh6+,Kg8,Qxg7#', 'https://lichess.org/training/7O65y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7O85z', 'Classical', 'nooryshoeep', 1605, 'mostafa94ali', 1636, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bb5,Bf5,Ne5,Qb6,Qe2,e6,c3,Nf6,Nd2,Bd6,Ndf3,Bg4,Bxc6+,bxc6,Nxg4,Nxg4,h3,Nf6,O-O,O-O,Bg5,Be7,b3,Qc7,Ne5,Ne4,Bxe7,Qxe7,Rfc1,Rac8,c4,f6,Nf3,f5,cxd5,cxd5,Ne5,Nc3,Qe1,Qb4,Qd2,Rc7,Rc2,a5,Rac1,Rfc8,Qg5,Ne2+,Rxe2,Rxc1+,Kh2,Qxd4,Qe7,R1c7,Nd7,Qa7', 'Qxe6+,Kh8,Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/7O85z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7o9Jp', 'Bullet', 'a_farag11', 2306, 'IM MannySen', 2421, 'Nf3,d5,g3,c5,Bg2,f6,O-O,e5,d3,Bd6,Nc3,Ne7,e4,d4,Nd5,Be6,Re1,O-O,c3,Nxd5,exd5,Bxd5,cxd4,cxd4,Nh4,Bb4,Bd2,Bxd2,Qxd2,Nc6,Rac1,Bxa2,Nf5,Be6,Be4,Qd7,g4,g6,Nh6+,Kg7,h3,Bd5,Kg2,Rae8,b4,a6,Rc5,Bxe4+,dxe4,Rd8,Rd5,Qe7,b5,axb5,Rxb5,Rd7,h4,d3,g5,f5,exf5,gxf5,f3,e4,Qb2+,Nd4,Rb4,Rfd8,fxe4,fxe4,Rf1,Qe5,Rxd4,Rxd4,Rf7+,Kh8,Qxb7,R4d7,Qxd7,Rxd7', 'Rf8+,Kg7,Rg8#', 'https://lichess.org/training/7o9Jp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7O9JR', 'Rapid', 'SilentClimber', 1837, 'Frclock', 1868, 'e4,e6,Nf3,d5,e5,c5,c3,d4,d3,Nc6,Bg5,Be7,Bxe7,Ngxe7,cxd4,cxd4,Qa4,O-O,Nbd2,Ng6,Nc4,Qc7,Qb5,a6,Qb6,Qxb6,Nxb6,Rb8,Be2,Ngxe5,Nxe5,Nxe5,O-O,Bd7', 'f4,Bc6,fxe5', 'https://lichess.org/training/7O9JR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7oBqC', 'Rapid', 'imanforuzan', 1667, 'orionice', 1610, 'e4,e5,Bc4,Nf6,d3,Be7,Nf3,Nc6,h3,d5,exd5,Nxd5,Qe2,O-O,Nxe5,Nxe5,Qxe5,c6,O-O,Re8,Qg3,Bd6,f4,a6,Nc3,h6,Nxd5,cxd5,Bxd5', 'Bc5+,Kh2,Qxd5', 'https://lichess.org/training/7oBqC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7oDmq', 'Blitz', 'mm696', 2010, 'ibraheem1999', 2009, 'd4,Nf6,Bf4,e6,e3,Be7,Nc3,O-O,Nf3,c5,h3,Nc6,Bh2,d5,Be2,b6,O-O,Bb7,Nb5,Rc8,Nc3,h6,a3,cxd4,Nxd4,Nd7,Nxc6,Bxc6,a4,Nc5,b4,Nd7,b5,Bb7,a5,Rxc3,axb6,axb6,Ra7,Ba8,Qa1,Rc8,Qa6,Nc5,Qa2,Bd6,Bxd6,Qxd6,Ra1,Bb7,Bf3,Ra8,Rxa8,Rxa8,Qb2,Rxa1+,Qxa1,Qc7,Qa7,Qe5,Qxb6,Qc3,Qd8+,Kh7,Qe7,Qxc2,Qxf7,Qb1+,Kh2,Qxb5,Bh5,Qd7', 'Bg6+,Kh8,Qf8#', 'https://lichess.org/training/7oDmq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7OhOb', 'Rapid', 'B_R_O_L_Y_K', 1825, 'pietro2', 1879, 'e4,c5,Nf3,Nc6,c3,e6,d4,d5,exd5,exd5,dxc5,Bxc5,Bb5,Ne7,O-O,O-O,Ba4,Bg4,Bc2,Ne5,Nbd2,N7c6,Qe2,Nxf3+,gxf3,Re8,Qd3,Qh4,fxg4,Ne5,Qg3,Qxg3+,hxg3,Nxg4,Kg2,h5,f3,Ne3+,Kh3,Nxc2,b4,Bb6,Rb1,Rac8,Bb2,Re2,Nb3,Ne3,Rfe1,Rxe1,Rxe1,Nc4,Bc1,Kf8,a4,Re8,Rxe8+,Kxe8,a5,Bc7,Nc5,b6,axb6,axb6,Na6,Be5,b5,Bxc3,Nc7+,Kd7,Nxd5,Bd4,f4,Kd6,Nb4,Kc5,Nc6,Bf6,Na7,Bd8,Kg2,Bc7,Kf3,Bb8,Nc6,Bd6,Na7,Kb4,Ke4,Bc5,Kd5,Bf2,f5,Bxg3,Bg5,h4,Be7+,Kb3,Nc6,h3,Nd4+,Ka4,Kxc4,h2,Ne2,h1=Q', 'Nc3+,Ka5,Bb4#', 'https://lichess.org/training/7OhOb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Oln2', 'Rapid', 'MetteA', 1995, 'mburch1974', 1942, 'b3,e5,Bb2,d6,g3,f5,Bg2,c6,c4,Nf6,e3,Be7,Ne2,O-O,O-O,Be6,d4,Nbd7,d5,cxd5,cxd5,Bf7,Nbc3,Nb6,a4,Rc8,a5,Nbd7,b4,a6,Qd2,Qc7,Rfc1,Qc4,Ne4', 'Nxe4,Rxc4,Nxd2', 'https://lichess.org/training/7Oln2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7oLws', 'Rapid', 'Tacticaccount', 2095, 'CaptNCarter', 2080, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be7,f3,Be6,Qd2,O-O,O-O-O,Nbd7,g4,b5,Kb1,b4,Nd5,Bxd5,exd5,a5,Nc1,Rc8,Ba6,Ra8,Bb7,Rb8,Bc6,Ne8,Ba7,Rc8,Bb7', 'Rc7,Bc6,Rxa7', 'https://lichess.org/training/7oLws');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7ONmq', 'Rapid', 'kuskij', 1904, 'mehdi33', 1765, 'd4,g6,c4,Bg7,Nc3,Nf6,Bf4,O-O,e4,d6,Qd2,Nh5,Bh6,Bxh6,Qxh6,e5,Nf3,exd4,Nd5,Nc6', 'Ng5,Qxg5,Qxg5', 'https://lichess.org/training/7ONmq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7opSc', 'Rapid', 'I_Mr_Negative', 1798, 'NemojMeGasit', 1796, 'c4,e5,Nc3,Bc5,g3,Qf6,Nf3,Ne7,Ne4,Qc6,d3,d5,cxd5,Nxd5,Nxe5,Qe6,Nf3,Nd7,h4,O-O,Bh3,Qb6,O-O,N7f6,Bxc8,Raxc8,Nc3,Ne7,Bg5,Ng6,Nd2,Qxb2,Nce4,Nxe4,Nxe4,Bb6,h5,Ne5,h6,g6,Bf6,Qb5,Rb1,Qd5,Nc3,Qd6,Ne4,Qe6,Bg7,f5,Ng5,Qe7,d4,Rfd8,Qb3+,Nf7,e4,Rxd4,Bxd4,Bxd4,exf5,Qxg5,fxg6,Qxg3+,Kh1,Qxg6', 'Rg1,Kf8,Rxg6', 'https://lichess.org/training/7opSc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7ortX', 'Rapid', 'SnortinNorton', 2002, 'Djedjeska', 2018, 'Nf3,g6,c4,Bg7,d4,c6,e4,e6,Nc3,d5,Bg5,Qb6,Qd2,Nf6,c5,Qc7,Bf4,Qa5,Bd6,dxe4,Nxe4,Qxd2+,Nexd2,Nd5,Nc4,Na6,a3,Nac7,Be2,Nb5,Be5,Bxe5,Ncxe5,f6,Nc4,Nf4,Bf1,Ke7,g3,Nd5,Rd1,Rd8,h4,h5,Bh3,b6,O-O,Nbc7,Rfe1,Ne8,b4,Nc3,Rd2,bxc5,dxc5,Rxd2,Nfxd2,Nb5,a4,Nd4,Bg2,Bd7,Nf3,Nc2,Rb1,Rb8,Rb2,Nxb4,Nd4,e5,Nc2,Na6,Rxb8,Nxb8,Nb4,Nc7,Na5,Nd5,Nbxc6+', 'Nxc6,Nxc6+,Bxc6', 'https://lichess.org/training/7ortX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7oTIS', 'Rapid', 'Anders_son', 1776, 'kiasar', 1695, 'Nf3,Nc6,d4,d5,Bf4,Nf6,e3,a6,c4,Bf5,Nc3,e6,Bd3,Be4,O-O,Bd6,Bxd6,cxd6,cxd5,Bxd5,Nxd5,Nxd5,Rc1,O-O,a3,Nf6,Qc2,g6,Be4,d5,Bd3,Rc8,Qb3,b5,Qd1,e5,Nxe5,Ne7,Qe2,Nh5,Qd2,f6,Nf3,Qd6,Rxc8,Rxc8,Rc1,Rf8,Qc2,f5,Qc7,Qe6,Ne5', 'Rc8,Qxc8+,Nxc8', 'https://lichess.org/training/7oTIS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7OvpK', 'Rapid', 'solognot', 2018, 'Epsilonkleiner0', 2099, 'd4,Nf6,Nf3,d5,Bf4,e6,e3,c5,c3,Bd6,Bd3,O-O,Bg3,Qc7,Nbd2,Nbd7,Qe2,e5,dxe5,Nxe5,Nxe5,Bxe5,f4,Bd6,O-O,Bd7,e4,dxe4,Nxe4,Nxe4,Qxe4,g6,Qc4,a6,Be4,b5,Qd3,Rad8,Rad1,Bg4,Bf3,c4,Qc2,Bc5+,Kh1,Bf5,Be4,Bxe4,Qxe4,Rfe8,Qf3,Re3,Rxd8+,Qxd8,Qc6,Qe7,f5,gxf5,Qc8+,Kg7,Qxf5,Re2,Qg4+,Kf8,Bf4,Re6,Bh6+', 'Rxh6,Qc8+,Kg7', 'https://lichess.org/training/7OvpK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7OW1X', 'Blitz', 'IM lareinedesneiges', 2509, 'kilg0retr0ut', 2454, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bb3,Be7,g4,h6,Rg1,Nc6,Be3,Qc7,h4,Ne5,g5,hxg5,hxg5,Nfg4,Rxg4', 'Rh1+,Kd2,Rxd1+', 'https://lichess.org/training/7OW1X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7owSi', 'Classical', 'Elessar62442', 1955, 'Hamarneh03', 1952, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,Bg4,Be3,Re8,O-O,e5,d5,Na6,a3,Nc5,Qc2,b6,b4,Nb7,Rfe1,a5,h3,Bxf3,Bxf3,Qd7,Rec1,c5,dxc6,Qxc6,Nd5,axb4,axb4,Rxa1,Rxa1,Nxd5,exd5,Qc7,Ra6,Rc8,Rxb6,Nd8,c5,f5,Bg5', 'Qxb6,cxb6,Rxc2', 'https://lichess.org/training/7owSi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7OwZc', 'Rapid', 'alirezakarimi531', 1738, 'bastianmunz', 1608, 'b3,e6,Bb2,Nf6,e3,d6,Ne2,b6,Ng3,Bb7,d3,g6,e4,Bg7,Be2,e5,O-O,O-O,Nd2,Nbd7,f4,exf4,Rxf4,Ne5,Rf1,c5,Rb1,Qd7,Nf3,Neg4,Nd2,Ne3,Qe1,Nxf1,Qxf1,d5,Bxf6,dxe4,Ndxe4,Qe6,Bxg7,Kxg7,Ng5', 'Qe3+,Qf2,Qxg5', 'https://lichess.org/training/7OwZc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7oXF0', 'Rapid', 'GodOfGods', 1745, 'wujing', 1755, 'e4,e5,d4,d6,Nf3,Nf6,dxe5,Nxe4,Bc4,Nxf2,Kxf2,Bg4,Bxf7+,Kxf7,Ng5+,Qxg5,Qd5+,Be6,Qxe6+,Kxe6,Bxg5,dxe5,Re1,Nc6,Nc3,Bb4,Rad1,Nd4', 'Rxd4,Bxc3,bxc3', 'https://lichess.org/training/7oXF0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7oXl7', 'Blitz', 'Dodo28', 1781, 'Ijnacio', 1648, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Bc5,Bxf7+,Ke7,d3,h6,b4,Bxb4+,c3,Bxc3+,Nxc3,hxg5,Bg6,d6,Nd5+,Nxd5,exd5,Nd4,Bxg5+,Kd7,Qa4+,c6,dxc6+,bxc6,Bxd8,Kxd8,O-O,Bd7,Rab1,c5,Qa5+,Ke7,Rb7', 'Ne2+,Kh1,Rxh2+,Kxh2,Rh8+,Bh7,Rxh7#', 'https://lichess.org/training/7oXl7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7oYbp', 'Rapid', 'hemanth0000', 1735, 'otoemo', 1935, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Be2,Qc7,Nc3,Bb4,Bd2,Nf6,Bf3,O-O,a3,Bc5,Be3,b6,e5,Nd5,Nxd5,exd5,Bxd5,Bb7,Bxb7,Qxb7,O-O,Nc6,Nxc6,Qxc6,Bxc5,bxc5,Qd6,Rfc8,Rad1,Ra7,Rd5,h6,Rfd1,Rcc7,h3,Qb5,b3,a5,Qe7,a4,Qe8+,Kh7,b4,Qc4,Qxf7,cxb4,Rxd7', 'Qxf7,Rxf7,Rxf7', 'https://lichess.org/training/7oYbp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7p1SN', 'Rapid', 'Ajar-Leumas', 1809, 'BillyBoaz', 1771, 'e4,e5,Nf3,Nf6,d3,Nc6,c3,a6,Bg5,Be7,Be2,Nxe4', 'Bxe7,Qxe7,dxe4', 'https://lichess.org/training/7p1SN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7p2E6', 'Classical', 'SamuilGeorgiev', 1636, 'SilvaCitizen', 1744, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,d6,Bc4,Nf6,Bf4,a6,O-O,Na5,Bd3,b5,Re1,e5,Bg5,Be7,b4,Nc6,a3,O-O,Bb1,Be6,Ba2,Bxa2,Rxa2,Ra7,Bxf6,Bxf6,Rd2,Rd7,Nd5,Re8,Qc2,Bg5,Rd3,Ne7,Nxg5,Nxd5,Nxf7,Nxb4,Qb3,Rxf7,axb4,Qf6,f3,Qe6,Rd5,Kf8,Qa3,Ra8,Qa5,Qd7,Qb6,Rf6,Rc1,Qa7', 'Rc8+,Rxc8,Qxa7,Rc1+,Kf2', 'https://lichess.org/training/7p2E6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7P6nM', 'Rapid', 'RACER95', 1630, 'Bob-Hsu', 1632, 'd4,c5,dxc5,e6,e4,Bxc5,Nf3,Nf6,Nc3,a6,Bg5,h6,Bxf6,Qxf6,e5,Qf4,g3,Qb4,a3,Qxb2', 'Na4,Qxa1,Qxa1', 'https://lichess.org/training/7P6nM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7p6Uw', 'Blitz', 'aziz0281', 1800, 'rasho34', 1808, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Bxc6,dxc6,O-O,Bd6,Re1,O-O,c3,b6,d4,exd4,cxd4,Bb7,e5,Bb4,exf6,Bxe1,Qxe1,Qxf6,Bg5,Qg6,Nc3,c5,d5,c6,Rd1,cxd5,Nxd5,Rae8,Ne7+,Rxe7,Qxe7,Bxf3', 'Qxf8+,Kxf8,Rd8#', 'https://lichess.org/training/7p6Uw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7p7Hf', 'Blitz', 'idho_dwianri', 1622, 'aasifkhan7383', 1644, 'Nf3,e5,Nxe5,Nc6,Nf3,d5,d4,Bg4,e3,Nf6,c4,Bb4+,Nc3,dxc4,Bxc4,O-O,O-O,Re8,h3,Bh5,Be2,Bxc3,bxc3,Ne4,Bb2,Qf6,Nd2,Bxe2,Qxe2,Nxd2,Qxd2,Re7,a3,Rae8,c4,Nd8,Rae1,h6,f4,Qe6,d5,Qb6,Rf3,Re4,Bd4,Qb3,Rg3,g6,f5,g5,Bf6,Qxc4,Qd1,Qc3,Qh5,Qxe1+,Kh2,Rh4,Rxg5+,hxg5', 'Qxg5+,Kh7,Qg7#', 'https://lichess.org/training/7p7Hf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7PBH8', 'Rapid', 'nebras1', 1646, 'Peron6', 1892, 'e4,e5,Bc4,Nf6,d3,Nc6,a3,Bc5,c3,O-O,h3,d6,Nf3,Be6,Ba2,Bxa2,Rxa2,Nh5,Nxe5,Qf6,Nf3,Ne5,d4,Nxf3+,Qxf3,Qxf3,gxf3,Bb6,Be3,c6,Nd2,f5,Nc4,Bc7,e5,dxe5,dxe5,b5,Nd6,Bxd6,exd6,Rad8,Bc5,a6,Ra1,Nf4,d7', 'Nd3+,Ke2,Nxc5', 'https://lichess.org/training/7PBH8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7PcK0', 'Rapid', 'zlmacel', 1883, 'mohammed_senousy', 1861, 'e4,c5,Nf3,e6,Nc3,Nc6,Bc4,a6,d4,cxd4,Nxd4,Nf6,Nf3,Qc7,g3,g6,Bf4,e5,Bg5,Bg7,Bxf6,Bxf6,Qd5,O-O,O-O-O,b5,Bxb5,axb5,Nxb5,Qa5,a3,Bg7,Ng5,Bh6,f4,Ba6,Nd6,Qxd5,exd5,Bxg5,fxg5,Nd4,h4,Be2,Rde1,Bf3,Rhf1,Bxd5,Rxe5,Be6,Rd1,Nf5,Ne4,d5,Nf6+,Kg7,Nxd5,Rfd8,Nc7,Rxd1+,Kxd1,Rd8+,Kc1,Nd4,Nxe6+,Nxe6,g4,Rd4,h5,Rxg4,hxg6,hxg6,b3,Nxg5,a4,Ne6,a5,Rb4,a6,Rb8,a7,Ra8,Ra5,Kf8,b4,Ke7,b5,Nc5,b6,Nb7,Ra3,Kd6,Rc3,Nc5', 'Rxc5,Kxc5,b7,Rxa7,b8=Q', 'https://lichess.org/training/7PcK0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7PDHD', 'Classical', 'Texmurphy', 1658, 'jahazar', 1938, 'd4,Nf6,c4,c5,d5,b5,e3,g6,Nc3,Bg7,Nf3,b4,Na4,d6,b3,Bd7,Be2,Ne4,Bb2,Bxb2,Nxb2,Nc3,Qc2,Bf5,Bd3,Bg4,Nd2,O-O,h3,Bc8,Nd1,Qa5,O-O,Nxd1,Rfxd1,Nd7,Qb2,Ne5,Bc2,f5,f4,Nf7,a3,Qb6,axb4,cxb4,Qd4,Qxd4,exd4,a5,Re1,Re8,c5,dxc5,dxc5,Ba6,Rxa5,Bb7,Rxa8,Bxa8,d6,Kf8,dxe7+,Rxe7,Rxe7,Kxe7,Bd3,Nd8,Bb5,Nc6,Kf2,Nd4,Bc4,Ne6,Bxe6,Kxe6,g3,Kd5,Ke3,Kxc5,Kd3,Bg2,h4,Kd5,Nc4', 'Bf1+,Ke3,Bxc4', 'https://lichess.org/training/7PDHD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7PeqS', 'Blitz', 'b4nter', 1529, 'Asafkaraso', 1502, 'd4,e5,c4,exd4,Qxd4,Nc6,Qd1,Bc5,Nf3,Nf6,e3,d6,Be2,Bg4,O-O,h5,h3,Ne4,Nc3,Nxc3,bxc3,g5,Nd4,Nxd4,cxd4,Bb6,a4,a5,hxg4,hxg4,Bxg4,Qf6,Qf3,Qh6,Qh3,Qg7,Qf3,f6,Bb2,Qg6,d5,Rh4,Rfe1,Qh7,Kf1', 'Rh1+,Ke2,Qc2#', 'https://lichess.org/training/7PeqS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7pnni', 'Blitz', 'tkmb', 1875, 'nica33', 1785, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,d6,d3,h6,Be3,Nf6,Qd2,Bb4,a3,Ba5,O-O-O,Be6,Bb5,Bd7,h3,O-O,Bxh6,gxh6,Qxh6,Nh7,h4,Qf6,Qh5,Qg6,g4,Qxh5,gxh5,Kh8,Nd5,Bb6,Ng5,f5,Bxc6,bxc6,Ne7,Kg7,Rdg1,Kh6,Nxh7,Kxh7,Rg6,fxe4,Rhg1,Rf7,h6,Bxf2,Rg7+,Rxg7,Rxg7+,Kh8,Rf7,Be3+,Kd1,Be6', 'Ng6+,Kg8,Rg7#', 'https://lichess.org/training/7pnni');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7POCO', 'Rapid', 'MassyChess96', 1961, 'torrepajarete', 1917, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,Nxe5,d5,Qf3,Nf6,Qe2,dxc4', 'Nc6+,Qe7,Nxe7', 'https://lichess.org/training/7POCO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7ppi4', 'Blitz', 'SOURYA1810', 1909, 'smailon', 1891, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Be2,Bg4,h3,Bxe2,Qxe2,Nc6,Qxe5,Nxe5,d4,Nc6,Nf3,O-O-O,d5,Nb4,O-O,Nxc2,Rb1,Nb4,Nb5,a6,Nc3,Nxd5,Bd2,e6,Nxd5,Rxd5,Be3,h6,Rfc1,Bd6,g3,Ne7,Kg2,Nc6,a3,Rd8,Rc2,Ne5,Nxe5,Bxe5,Rbc1,c6,b4,Bd4,Bf4,e5,Be3,Bxe3,fxe3,Rd2+,Kf3,Rxc2,Rxc2,Rd3,a4,Rb3,Rc4,b5,axb5,axb5,Rxc6+,Kb7,Rc5,Rxb4,Rxe5,Rc4,Rxb5+,Kc6,Ra5,Rb4,Ra7,Rb7,Rxb7,Kxb7,Ke4,Kc7,Ke5,Kd7,e4,Ke7,Kf5,Kd7,h4,Ke7,g4,Kd7,g5,hxg5,hxg5,Ke7,e5,g6+,Kf4,Kd7,Ke3,Kc6,Ke4,Kc5', 'e6,fxe6,Ke5,Kc6,Kxe6', 'https://lichess.org/training/7ppi4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7PsCW', 'Blitz', 'GM mrchess2013', 2529, 'IM Chessibague', 2520, 'e4,e5,Nf3,Nc6,Nc3,g6,Bc4,Bg7,d3,Nge7,Nd5,h6,Nxe7,Qxe7,c3,d6,O-O,O-O,Re1,a6,Bb3,Kh7,d4,f5,exf5,gxf5,dxe5,dxe5,Nd4,Nxd4,cxd4,e4,Bf4,Rd8,d5,Bxb2,Rb1,Be5,Qd2,Bxf4,Qxf4,Qd6,Qh4,Bd7,f3,Rg8,fxe4,Rg4,e5,Qg6,Qf2,Rg8,Re2,Bb5,Rd2,Bd3,Re1,Be4,g3,f4,Rxe4,fxg3,Qf3,gxh2+,Kxh2,Rxe4,Qxe4,Qxe4,Bc2,Qxc2,Rxc2,Rg7,d6,cxd6,exd6,Kg6', 'Rg2+,Kf7,Rxg7+,Kxg7,d7', 'https://lichess.org/training/7PsCW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7PSY3', 'Classical', 'TreyHardee', 1671, 'Art-em', 1640, 'c4,e6,d4,Ne7,Nc3,d5,e3,g6,cxd5,Nxd5,Nxd5,Qxd5,Bd2,Bg7,b3,b6,Rc1,c5,Ne2,Bb7,f3,cxd4,exd4,Bxd4,Nxd4,Qxd4,Rc4,Qd7,Qa1,Rg8,Qe5,Ba6,Rc7,Qd8,Bxa6,Nxa6,Rc4,Nc5,Qd4,Qc7,b4,Rd8,Qc3,Nd3+', 'Qxd3,Rxd3,Rxc7', 'https://lichess.org/training/7PSY3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7pVI3', 'Rapid', 'Mang_Kanor1', 1776, 'Amaury-Larramona', 1803, 'e4,e5,Nf3,d6,Bc4,Nc6,Nc3,h6,d3,Bg4,Nxe5,Nxe5,f3,Be6,Bxe6,fxe6,Rf1,Be7,f4,Nc6,Qh5+,Kd7,f5,Qe8,fxe6+,Kd8,Rf7,Ne5,Rxe7,Qxe7,Nd5,Nf6,Qf5,Qe8', 'e7+,Qxe7,Nxe7', 'https://lichess.org/training/7pVI3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7pYsb', 'Rapid', 'Monterizo', 2088, 'aim03', 2146, 'e4,e5,Nf3,Nc6,Bc4,Be7,c3,d6,h3,Nf6,d3,O-O,Bb3,h6,O-O,Be6,Bc2,d5,exd5,Nxd5,Nbd2,f5,Re1,Bf6,Nc4,e4,dxe4,fxe4,Nd4,Bxd4,cxd4,Ndb4,Bb3,Nxd4,Be3,Nxb3,axb3,Nd3,Re2,Qf6,Rd2,a6,f3,b5,Na3,Nxb2,Rxb2,Qxb2,Bd4,Qxb3,Nc2,a5,fxe4,a4,Ra3,Qc4,Rg3,Rf7,Ne3,Qb3,Qh5,Qd3,Qe5,Qxd4,Qxd4,a3,Nc2,a2,Ra3,Rc8,Ra7,c5,Qd6,Bb3,Rxf7,Bxf7,e5,Bb3,Na1,c4,e6,c3,e7,Re8,Nxb3,c2,Qe6+,Kh8,Qf7', 'a1=Q+,Nxa1,c1=Q+', 'https://lichess.org/training/7pYsb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Q1OR', 'Blitz', 'Webmc', 2405, 'Papundek', 2341, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,f4,c5,c3,Nc6,Ndf3,Qb6,g3,cxd4,cxd4,Bb4+,Kf2,f6,Be3,O-O,Bh3,fxe5,fxe5,Ndxe5,dxe5,Bc5,Bxc5,Qxc5+,Kg2,Nxe5,Rc1,Qb6,Qb3,Nc4,Qxb6,axb6,a3,Nxb2,Rxc8,Rfxc8,Bxe6+,Kf8,Bxc8,Rxc8,Ne2,Nc4,Rb1,Ne3+,Kh3,Rc6,Ned4', 'Rh6+,Nh4,g5,g4,Rxh4+', 'https://lichess.org/training/7Q1OR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7q2sv', 'Rapid', 'tmano', 1928, 'vsulca', 1934, 'e4,e5,f4,exf4,Nf3,Be7,g3,fxg3,hxg3,d5,exd5,Bg4,Be2,Nf6,Nc3,Nxd5,Nxd5,Qxd5,d4,Bd6,Bf4,Bxf4,gxf4,Nc6,c3,O-O-O,Rg1,h5,Ne5,Bxe2,Qxe2,Rde8,O-O-O,f6,Qc4,Qxc4,Nxc4,Reg8,f5,Ne7,Ne3,g6,fxg6,Rxg6,Rxg6,Nxg6,Rf1,h4,Rxf6,Ne7,Rf2,h3,Ng4,Rh4,Nh2,Nd5,Nf3,Rh8,Rh2,Nf4,Kd2,Rg8,Ke3,Rg2', 'Kxf4,Rxh2,Nxh2', 'https://lichess.org/training/7q2sv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Q3Mt', 'Rapid', 'asv-17', 1766, 'imtimbus', 1762, 'e4,c6,d3,d5,exd5,g6,Qf3,Bg7,h4,Nf6,Be2,Bg4,Qg3,Bxe2,Nxe2,Qxd5,Nbc3,Qe6,h5,Nxh5,Rxh5,gxh5,Qxg7,Rf8,Bh6,Nd7,Qxh7', 'Nf6,Qg7,Rg8,Qxg8+,Nxg8', 'https://lichess.org/training/7Q3Mt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7q67r', 'Classical', 'umpteenQueensProblem', 1901, 'KartelSN', 1889, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nxe5,Nxe5,d4,Bxd4,Qxd4,Nc6,Qxg7,Qe7,Qxh8,Qxe4+,Be3,Qxg2,Rf1,d5,Bb5,Bh3,Bxc6+,bxc6,Qe5+,Ne7,Nd2,Qg6,Rh1,Kd7,Bf4,Rc8,Qc3,Qe6+,Be3,Bg4,Nb3,Qf5,Nd4,Qe4,Kd2,Rb8,Rhg1,f5,Raf1,f4,Rxg4,fxe3+,fxe3,Qxg4,Rf7,Qg2+,Kd3', 'Qg6+,Kd2,Qxf7', 'https://lichess.org/training/7q67r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7q6Zy', 'Classical', 'Ashokkhatima', 1995, 'Dsantosh5', 1755, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Be7,Be2,O-O,O-O,a6,f4,Bc5,Be3,d6,Nxc6', 'Bxe3+,Kh1,bxc6', 'https://lichess.org/training/7q6Zy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7q7yM', 'Classical', 'Pajablazen', 2045, 'Iuru388eueue737e6', 1688, 'e4,e6,Nf3,d5,Nc3,d4,Ne2,c5,c3,Nc6,cxd4,cxd4,Qa4,Bc5,b4,Bb6,Bb2,Bd7,Qb3,e5,a4,f5,d3,fxe4,dxe4,Qf6,Ng3,Nge7,Bc4,Nd8,a5,Bc7,O-O,Be6,Rac1,Bxc4,Rxc4,Ne6,a6,b5,Rc2,Bd6,Rfc1,O-O,h3,Kh8,Qa3,Nf4,Nh2,d3,Rd2,Ne2+,Nxe2', 'Qxf2+,Kh1,dxe2', 'https://lichess.org/training/7q7yM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7qC5P', 'Blitz', 'exhilarate', 1553, 'OperationIvy', 1558, 'd4,d5,c4,Nf6,Nf3,dxc4,e4,b5,e5,Ne4,Qe2,Bf5,Nc3,Nxc3,bxc3,Bd3,Qd1,Be4,Ng5,Bf5,Be2,h6,Nf3,Bg4,O-O,f6,Re1,fxe5,Nxe5,Bxe2,Qxe2,g5,Ba3,Qd5,Qh5+,Kd8,Nf7+,Kc8,Nxh8,Nd7,Nf7,Kb7,Ne5,Nxe5,Rxe5,Qd7,Qf3+,c6,Bc5,Bg7,Re2,a5,Rd1,Rf8,Qe3,Bf6,h3,h5,Qc1,g4,h4,Bxh4,Rde1,Bxf2+,Kh1,Bxe1,Rxe1,h4,Qa3,Ka6,Rxe7', 'Rf1+,Kh2,g3#', 'https://lichess.org/training/7qC5P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7qe5r', 'Classical', 'jdmk', 1876, 'meggsy', 1724, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,Bb4,d3,d6,Bxc6+,bxc6,O-O,h6,Bd2,O-O,Qe2,Bg4,h3,Bxf3,Qxf3,d5,Rfd1,Re8,a3,Ba5,Kh2,Qd7,Bxh6,gxh6,Qxf6,Kh7,Ne2,Re6,Qf5+,Kh8,Ng3,Rg8,h4,Qe7,Qh3,Bb6,Nf5,Qd8,Rf1,Reg6,g3,dxe4,dxe4,Qd2,Ne7', 'Rxg3,Qxg3,Rxg3', 'https://lichess.org/training/7qe5r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7qeyG', 'Rapid', 'erhanfirinci', 1617, 'saravana2703', 1708, 'd4,d5,c4,dxc4,e4,e5,d5,c6,Bxc4,cxd5,exd5,Nf6,Nc3,Bb4,Bd2,Bg4', 'Qa4+,Nbd7,Qxb4', 'https://lichess.org/training/7qeyG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Qfir', 'Classical', 'EmdeeKay', 1671, 'VikTor_dashinam', 1720, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Ng5,O-O,Nxf7,Rxf7,Bxf7+,Kxf7,O-O,d6,Nc3,Bg4,Qd2,Kg8,Na4,Bb4,c3,Ba5,b4,Bb6,Nxb6,axb6,f4,Be6,Qf2,Nb8,Qg3,Nbd7,fxe5,Nxe5,Bg5,Ng6,Bxf6,gxf6,h4,Kh8,h5,Ne5,h6,Qf8,Qh4,Nd7,g4,Qf7,d4,Rg8,Rf4,Bc4,Kf2,Bxa2,g5,Rxg5', 'Qxg5,fxg5,Rxf7', 'https://lichess.org/training/7Qfir');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7qgdL', 'Classical', 'Ithalos', 1799, 'Benjamin14', 1851, 'e4,e5,Nf3,Nf6,c4,Nxe4,Nc3,Nxc3,dxc3,d6,Be2,Nc6,O-O,Bf5,c5,d5,Bb5,f6,Re1,e4,Nd4,Bd7,Qh5+,g6,Qxd5,Nxd4,Bxd7+,Qxd7,Rxe4+,Be7,Qxd7+,Kxd7,Rxd4+,Kc6,b4,Rhd8,Be3,Rxd4,cxd4,Rd8,a4,Kd5,b5,c6,Kf1,f5,f4,Bf6,Kf2,Re8,Kf3', 'Rxe3+,Kxe3,Bxd4+,Ke2,Bxa1', 'https://lichess.org/training/7qgdL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7qJwb', 'Rapid', 'onuralpduran', 1870, 'Kaygee1', 1858, 'd4,g6,c4,Bg7,e4,d6,Nf3,c6,Nc3,Qb6,b3,Bg4,Na4,Qxd4', 'Qxd4,Bxd4,Nxd4', 'https://lichess.org/training/7qJwb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7QMoe', 'Rapid', 'GIANNISPAP39', 1656, 'sonder1515', 1659, 'd4,Nf6,Nf3,e6,Nc3,d5,Bf4,Bb4,e3,Bxc3+,bxc3,Nbd7,Bd3,O-O,Ne5,Nxe5,Bxe5,Nd7,Bg3,c5,Qh5,h6,Bf4,c4,Be2,Nf6,Qe5,Bd7,g4,Ne4,f3,Nxc3,h4,f6,Qd6,Ba4,Qxe6+,Rf7,g5,Qd7,Qxd7,Rxd7,gxf6,gxf6,Rg1+,Kh7,h5,Nxe2,Kxe2,Bxc2,Kd2,Bf5,Kc3,a5,a4,Rg7,Rg3,Rxg3,Bxg3,Re8,Bf4,Bh3,Rb1,Re7,Rb5,Bg2,Rxd5,b6,Kxc4,Bxf3,Rb5,Re6,Bc7,Rxe3,Bxb6,Be2+,Kd5', 'Bxb5,axb5,a4', 'https://lichess.org/training/7QMoe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7qMxV', 'Classical', 'Copernicium7', 1853, 'AjedrezNomada', 2035, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,Bf4,Bb4+,Nc3,Bxc3+,bxc3,Qe7,Qd5,Qa3,Qd3,Qe7,Qd5,Qa3,Qd3,Qb2,Rb1,Qxa2,h3,Nh6,Bxh6,gxh6,g3,d6,exd6,cxd6,Bg2,Be6,Rxb7,O-O-O,Rb1,Ne5,Nxe5,dxe5,Qe4', 'Qd2+,Kf1,Qd1+,Rxd1,Rxd1#', 'https://lichess.org/training/7qMxV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7qP09', 'Blitz', 'Lukas201', 1936, 'Forest12', 1952, 'e4,c5,Nc3,e6,a4,a5,Bb5,Nc6,Bxc6,bxc6,f4,d5,e5,c4,Nf3,Ne7,O-O,Nf5,Qe1,Bc5+,Kh1,O-O,d3,cxd3,cxd3,Ba6,g4,Nd4,Nxd4,Bxd4,Rf3,Qb6,g5,c5,Qh4,g6,Rh3,Rfc8,Qxh7+,Kf8,Qh8+,Ke7,Qf6+,Kd7,Qxf7+,Kc6,Qxe6+,Kb7,Rh7+,Rc7,Qxd5+,Ka7,Rxc7+,Qxc7,Nb5+,Bxb5,axb5,Rd8,Qe6,Kb8,b6', 'Qb7+,Qc6,Qxc6#', 'https://lichess.org/training/7qP09');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7QPO6', 'Rapid', 'Pomilio', 1644, 'NostrAbramus', 2003, 'e4,e5,Nc3,Bc5,Nf3,Nc6,d3,Nf6,Be2,O-O,Bg5,d6,Nd5,Be6,Nxf6+,gxf6,Bh4,Kh8,h3,Rg8,Rg1,Rg6,Qd2,Qd7,O-O-O,a5,Bg3,b5,c3,b4,d4,exd4', 'cxd4,Nxd4,Nxd4', 'https://lichess.org/training/7QPO6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Qu17', 'Blitz', 'miguee29a', 1849, 'Mannes', 1867, 'e4,e5,f4,Nc6,Nf3,f5,d3,Nf6,Nc3,d6,Be2,Be7,O-O,O-O,fxe5,dxe5,Nd5,Nxd5,exd5,Qxd5,c4,Qd8,Qb3,Kh8,Bd2,Nd4,Nxd4,Qxd4+,Kh1,e4,Bc3,Qe3,Rae1,Qb6,Qc2,Bd7,b3,Bf6,dxe4,Bxc3,Qxc3,fxe4,Bh5,Rxf1+,Rxf1,e3,Rf7,Rg8,Rxd7,Qe6,Rd1,e2,Re1,Rf8,Bxe2,Qxe2,Kg1', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/7Qu17');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Quzk', 'Rapid', 'muali', 1751, 'Anopob', 1719, 'e4,Nf6,Qf3,d6,d3,g6,h3,Bg7,c3,O-O,Be3,e5,a3,Be6,Nd2,Nbd7,O-O-O,c5,Kb1,b5,d4,exd4,cxd4,c4,e5,Bd5,Qg3,Ne4,Nxe4,Bxe4+,Ka1,d5,Bg5,f6,exf6,Bxf6,Bxf6,Qxf6,f3,Bc2,Rc1,Bb3,Ne2,Rae8,Qf2,Re7,Nc3,Qf4,Be2,Rfe8,Nxd5,Rxe2,Qxe2,Qxc1+,Rxc1,Rxe2,Rg1,Kf7,Nc3,Rc2,Nxb5,a5,Nd6+,Ke6,Ne4,h6,Re1,Kd5,Nc3+,Kd6,g4,Kc7,Kb1,Rd2,d5,Kd8,Re6,Rh2,Kc1,Rh1+,Kd2,Rxh3,Rxg6,Rh2+,Ke3,Rh1,Kd2,Ke7,f4,Kf7,Ra6,a4,Ne4,Rh2+,Kc1,Rh1+,Kd2,Rg1,Nd6+,Kg7,Nf5+,Kf8,Nxh6,Nc5,Rc6,Ne4+,Ke3,Re1+,Kd4,Ng3,g5,Re4+,Kc3,Rxf4,g6,Nf5,Nxf5,Rxf5,d6,Kg7,d7,Rd5,Rc7,Kxg6,Kb4,Bd1,Kxc4,Rd2,Kc3,Rd6,Kb4,Kf6', 'Rc6,Rxc6,d8=Q+', 'https://lichess.org/training/7Quzk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Qv3W', 'Blitz', 'TuaKee', 1679, 'gemanuil', 1874, 'd4,d6,f4,Nf6,Nf3,c6,e3,Nbd7,Bd3,Qc7,O-O,e6,c3,Be7,f5,e5,dxe5,Nxe5,Nxe5,dxe5,e4,Bc5+,Kh1,b5,b4,Bb6,a4,a6,axb5,cxb5,Bxb5+,Kf8,Be2,Nxe4,Qb3,Nf2+,Rxf2,Bxf2,Ba3,Bxf5,b5+,Kg8,Nd2,h5,bxa6,Rxa6,Bxa6,Kh7,c4,e4,Rf1,e3,Nf3,Bg4,Ng5+,Kh6,Ne4,e2,Bc1+,Kg6,Re1,Bxe1,c5,f5', 'Qe6+,Kh7,Ng5#', 'https://lichess.org/training/7Qv3W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Qygz', 'Classical', 'ALKUDIES', 1756, 'wasper', 1693, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,h3,Nf6,d3,Qd6,Nbd2,b5,Nb3,Be7,Be3,Nd7,O-O,O-O,Qd2,Bb7,Qc3,Rad8,Na5,Ba8,Nb3,Qb4,Nxe5', 'Qxc3,bxc3,Nxe5', 'https://lichess.org/training/7Qygz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7QyqO', 'Rapid', 'Brocodes', 1675, 'Game_Changer11', 1741, 'd4,Nf6,e3,g6,Nc3,Bg7,Bd3,O-O,Bd2,d5,Nf3,Bd7,h4,a5,Ng5,a4,h5,Nxh5,Rxh5,gxh5,Qxh5,h6,Nxd5,f5,Qg6,hxg5,Qxg5,e6', 'Ne7+,Qxe7,Qxe7', 'https://lichess.org/training/7QyqO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7QZsO', 'Blitz', 'MGHZ', 1614, 'Jimmbob773', 1621, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,e6,Bc4,Qa5+,Bd2,Qc5,c3,Nf6,e5,Nd5,O-O,Nb6,Bb3,d6,Qxc5,dxc5,Rd1,Be7,Na3,a6,Nc4,Nxc4,Bxc4,O-O,Re1,b5,Bd3,Bb7,Re3,Rad8,Rh3,h6,Re1,c4,Bxh6,cxd3,Bxg7,Kxg7,Ree3,d2', 'Reg3+,Bg5,Rxg5#', 'https://lichess.org/training/7QZsO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7R1ks', 'Rapid', 'grvmehra', 1611, 'kristjan81', 1602, 'e4,Nf6,Nc3,Nc6,Bb5,Nd4,Ba4,e5,Nf3,Bc5,d3,O-O,a3,d6,b4,Bb6,O-O,Bg4,h3,Bxf3,gxf3,Nh5,Kh2,Qf6,Be3,Nxf3+,Kh1,g6', 'Nd5,Qh4,Qxf3', 'https://lichess.org/training/7R1ks');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7R2RE', 'Bullet', 'GM drop_stone', 3011, 'GM Inventing_Invention', 3023, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Bd6,O-O,O-O,Bg5,h6,Bh4,Bg4,Nbd2,c5,dxc5,Bxc5,h3,Bh5,Nb3,Bb6,Be2,Re8,Re1,Nc6,c3,Qd6,Nfd4,Bxe2,Rxe2,Ne4,f3,Ng3,Bxg3,Qxg3,Qe1,Qb8,Rxe8+,Qxe8,Qxe8+,Rxe8,Kf1,Nxd4,Nxd4,Bxd4,cxd4,Rc8,Re1,Rc4,Re8+,Kh7,Re7,Rc1+,Kf2,Rc2+,Kg3,Rxb2,Rxf7,a5,a3,Rb3,Rd7,b6,Rxd5,Rxa3,Rb5,Rd3,d5,a4,Kf4,a3,Rxb6,Rxd5,Ra6,Rd2,g4,a2,h4,Rd4+,Kf5,Rd3,Ke4,Rd2,Ra8,Re2+,Kf4,Rc2,h5,Rc4+,Kg3,Rc2,f4,Rc3+,Kh4,Rc4,f5,Rc2,Kg3,Rb2,Kf4,Rb4+,Ke5,Rb2,Ke6,Re2+,Kf7,Rb2,Ra7', 'Rb7+,Rxb7,a1=Q', 'https://lichess.org/training/7R2RE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7r3lQ', 'Rapid', 'shery1001', 2040, 'BigDogue', 1975, 'd4,d5,c4,dxc4,e4,Nf6,e5,Nfd7,Bxc4,b6,Bd5,c6,Bc4,Bb7,Nf3,c5,d5,e6,Bg5,Qc7,d6,Qc6,O-O,Nxe5,Qe2,Nxf3+,gxf3,Qxd6,Bb5+,Bc6,Rd1,Bxb5,Qxb5+,Qc6', 'Rd8#', 'https://lichess.org/training/7r3lQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7r5yW', 'Rapid', 'mica111', 1751, 'Hansson111', 1875, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,Re1,Nd6,Bxc6,dxc6,Nxe5,Be7,d4,O-O,Nc3,f6,Nf3,Bg4,h3,Bh5,Ne4,Nxe4,Rxe4,Re8,g4,Bg6,Re2,Bd6,Be3,Be4,Nd2,f5,Nxe4,fxe4,Qd2,Qh4,Kg2,Rf8', 'Bg5,Rxf2+,Rxf2', 'https://lichess.org/training/7r5yW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7R8Xv', 'Classical', 'FemiYomi', 1781, 'ptitbill', 1842, 'd4,Nf6,c4,c5,d5,b5,b3,g6,Bb2,Bg7,g3,d6,Bg2,O-O,Nd2,Qa5,Nf3,bxc4,bxc4,Nbd7,O-O,Rb8,Nb3,Qd8,Re1,a5,Bc3,a4,Na5,Bb7,Nxb7,Rxb7,Nd2,Ra7,Ne4,Qc7,Nxf6+,Nxf6,e4,Nd7,Bxg7,Kxg7,f4,Rb8,e5,Nb6,Qc2,a3,Rab1,Na4,Rxb8,Qxb8,e6,f6,Rb1,Rb7', 'Rxb7,Qxb7,Qxa4', 'https://lichess.org/training/7R8Xv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7RdEA', 'Rapid', 'chudoiydo', 1836, 'm-nihad', 1720, 'e4,g6,d4,Bg7,e5,f6,Nf3,Nc6,c3,a6,Bf4,d6,Bc4,dxe5,dxe5,Qxd1+,Kxd1,Bg4,exf6,Bxf6,Nd2,e5,Re1,O-O-O,Bg3,h5,h3,Bxf3+,gxf3,Bg5,f4', 'exf4,Bh2,f3', 'https://lichess.org/training/7RdEA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7rEdq', 'Rapid', 'istinkdotcom', 1921, 'sillymash', 1890, 'e4,c5,c3,d6,f4,Nc6,Nf3,Nf6,e5,dxe5,fxe5,Nd5,Bb5,a6,Bc4,Bg4,d4,Nb6', 'Bxf7+,Kxf7,Ng5+,Kg8,Qxg4', 'https://lichess.org/training/7rEdq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7rHYb', 'Rapid', 'mehdi_1400', 2102, 'Chanakya007', 2008, 'e4,b6,d4,Bb7,Nc3,e6,Nf3,Nf6,Bd3,Nc6,O-O,Nb4,e5,Nxd3,Qxd3,Nd5,Nxd5,Bxd5,c4,Bb7,d5,Bc5,Be3,O-O,Bxc5,bxc5,h3,exd5,cxd5,d6,e6,fxe6,dxe6,Bxf3,gxf3,Qf6,Qd5,Rfe8,Rae1,Qxb2', 'e7+,Kh8,Qxa8', 'https://lichess.org/training/7rHYb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Rifa', 'Rapid', 'Goeliath', 1739, 'savassavas', 1738, 'e4,c5,Nf3,Nc6,Bc4,e6,Nc3,d5,exd5,exd5,Bxd5,Qe7+,Qe2,Qxe2+,Nxe2,Nf6,Bc4,h6,h4,Nb4,Bb3,Be6,Kd1,Bxb3,axb3,Ne4,Rf1,Bd6,g3,O-O,Nc3,Nf6,d3,Rfe8,Be3,a6,Kd2,Ng4,Ne4,Bc7,Nxc5,Nxe3,fxe3,Bxg3,Nxb7,Rab8,Nc5,Rec8,d4,Rd8,Rg1,Bd6,c3,Bxc5,cxb4,Bxb4+,Kd3,a5,Ne5,Rbc8,Rgc1,f6,Nc6,Rd7,Nxa5', 'Rxc1,Rxc1,Bxa5', 'https://lichess.org/training/7Rifa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7rJSN', 'Rapid', 'AlbertoCachorro', 1739, 'Ellipsis6', 1710, 'd4,d5,Bf4,Nc6,e3,Nf6,Nf3,Bg4,h3,Bf5,g4,Be4,Nbd2,e6,Bd3,Bb4,c3,Bd6,Qc2,Qe7,Nxe4,Nxe4,Bxe4,Bxf4,exf4,dxe4,Qxe4,O-O-O,O-O-O,g6,Nd2,a6,Kb1,h5,f3,f5,Qe2,Qd6,Qe3,Ne7,Nc4,Qd7,Ne5,Qe8,Qd3,Nd5,Qd2,hxg4,fxg4,fxg4,hxg4,Rxh1,Rxh1,Qg8,Rh6,Ne7,g5,Rd5,Qd3,b5,Nxg6,Nxg6,Qxg6,Qd8,Qxe6+,Kb8,Qxa6,Qe8,Re6,Qd7,Re5,Rxe5,fxe5,Qf5+,Kc1,Qxg5+,Kc2,Qf5+,Kb3,Qf7+,Kb4', 'Qc4+,Ka3,b4+,Ka4,Qxa6+', 'https://lichess.org/training/7rJSN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Rkvy', 'Blitz', 'anatolinozka', 1784, 'NM oberschlumpf', 2241, 'd4,Nf6,Nf3,c5,e3,b6,c4,Bb7,d5,e6,Nc3,exd5,cxd5,d6,e4,g6,Bg5,Bg7,Bb5+,Nbd7,Qa4,a6,Bxd7+,Qxd7,Qb3,b5,O-O,O-O,a4,b4,Bxf6,Bxf6,Ne2,Rfe8,Ng3,a5,Rfe1,Ba6,Qe3,Bxb2,Rab1,Bg7,Qf4,Qc7,Ng5,c4,h4,h6,Nf3,c3,Rec1,Qd7,h5,Rab8,hxg6,fxg6,Qe3,b3,Rxc3,Bxc3,Qxc3,Rec8,Qf6,Qf7,Qxd6,Bd3,Rb2,Rb7', 'Ne5,Rc1+,Kh2', 'https://lichess.org/training/7Rkvy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7RLBW', 'Blitz', 'Lipablo87', 1684, 'bisazambia', 1702, 'e4,e5,Nf3,d6,Bc4,Bg4,h3,Bh5,O-O,Nf6,Be2,Be7,d3,O-O,Nc3,Nc6,Nd2,Bxe2,Qxe2,Nd4,Qd1,Nd7,Nb3,Nc5,Nxd4,exd4,Ne2,Ne6,Nf4,Nxf4,Bxf4,c5,Qg4,Qb6,Bh6,Bf6,b3,Rfe8,Rab1,a5,Bg5,Qd8,f4,Rb8,Rf3,Qe7,Rg3,d5,e5,Bxg5,Qxg5,f6,exf6,Qf7,fxg7,Re7,Rf1,Rbe8,Rg4,Qe6,Rh4,Qe3+,Kh2,Rf7,Qh6,Rxg7,f5', 'Qg3+,Kg1,Qxg2#', 'https://lichess.org/training/7RLBW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7rs36', 'Rapid', 'Samanomidi9999021', 2158, 'novoatual09', 2054, 'e4,c5,Nf3,Nc6,Bb5,Qb6,Nc3,e6,O-O,Nf6,d3,Be7,Re1,O-O,a3,d6,Bg5,h6,Bh4,a6,Bxc6,Qxc6,d4,cxd4,Nxd4,Qc5,Qd3,Re8,Rad1,b5,Nf3,Bb7,e5,dxe5,Rxe5,Qc6,Nd4', 'Qxg2#', 'https://lichess.org/training/7rs36');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7rTEu', 'Rapid', 'diegosouza22', 1643, 'amaremoto', 1640, 'e4,g6,Nc3,Bg7,Nf3,a6,d4,h6,Be3,d6,Be2,b5,Qd2,Bb7,d5,Nd7,a3,Rc8,O-O-O,c5,e5,dxe5,d6,e6,Na2,c4,Kb1,Bd5,Qb4,Ngf6,Qd2,O-O,Bxh6,Ne4,Qe3,Bxh6,Qxh6,Nxf2', 'Ng5,Qxg5,Qxg5', 'https://lichess.org/training/7rTEu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7rTfM', 'Blitz', 'bigrodlo', 1725, 'veggulator', 1851, 'd4,d5,f4,Nf6,Nf3,c6,a3,Bf5,Nc3,Nbd7,Be3,Ne4,Bg1,Ndf6,Nxe4,Nxe4,c3,e6,g3,h6,Bg2,Be7,e3,b5,Bf2,O-O,O-O,a5,Ne5,Qc7,Qh5,Nf6,Qe2,Be4,Bf3,Bxf3,Qxf3,Ne4,Be1,c5,Rd1,b4,dxc5,Bxc5,Bf2,bxa3,bxa3,Bxa3,g4,Qxc3,g5,hxg5,Ng4,Nd2,Qh3,Nxf1,Rxf1,gxf4,Qg2,fxe3,Bxe3,d4', 'Nf6+,Kh8,Qh3#', 'https://lichess.org/training/7rTfM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7rvjS', 'Rapid', 'Crazzzyyy', 1696, 'punit1314', 1670, 'e4,e5,Nf3,d6,h3,h6,Bc4,a6,d4,b5,Bb3,Qe7,dxe5,dxe5,O-O,Bb7,Nc3,Nf6,Nd5,Nxd5,Bxd5,Bxd5,exd5,Nd7,Bf4,f6,Bg3,g5,Qd3,Bg7,Qg6+,Qf7,Qxf7+,Kxf7,Rad1,Bf8,a3,Nc5,Rfe1,Bd6,Nd2,h5,f3,h4,Bf2,Na4,b3,Nc3,Ra1,Nxd5,Ne4,Nf4,Red1,Rad8,c4,Ne6,cxb5,axb5,a4,bxa4,bxa4,Be7,Rdb1,f5,Nxg5+,Nxg5,a5,Rhg8,Rb3,Nxh3+,Kf1,Nxf2,Kxf2,Ra8,a6,Rgd8,Rb7,Bc5+,Kf1,Bb6,a7,Kg6,Ra6,Kg5,Ke2,Kf4,Ra4+,Kg3,Kf1,Rd1+,Ke2,Rg1,Rb8,Rxa7', 'Rg8+,Kh2,Rxh4#', 'https://lichess.org/training/7rvjS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7ryrw', 'Rapid', 'sammy1812', 1685, 'sarilarin_sulo', 1736, 'e4,e6,d4,d5,e5,c5,Nf3,Bd7,Be2,Nc6,O-O,Qb6,Nc3,Nge7,Bg5,Nf5,Na4,Qa5,b3,cxd4,Bd2,Qd8,c4,dxc4,Bxc4,Bb4,Bxb4,Nxb4,Qd2,Nc6,Nc5,b6,Nxd7,Qxd7,Rac1,O-O,Bb5,Rac8,Qc2,Nfe7,Nxd4,Nxd4,Bxd7,Nxc2', 'Bxc8,Rxc8,Rfd1', 'https://lichess.org/training/7ryrw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7ryS5', 'Rapid', 'purplegirl', 1994, 'AndresDL99', 1979, 'e4,c5,Nf3,e6,c3,d5,exd5,exd5,d4,Nf6,Bb5+,Bd7,Qe2+,Be7,Ne5,O-O,Nxd7,Nbxd7,O-O,cxd4,cxd4,Ne4,Nc3,a6,Bd3,Ndf6,Qc2,Rc8,Bd2,h6,Rae1,Nxd2,Qxd2,Bd6,g3,Qd7,f4,Rce8,Bb1,Bb4,Re5,Bxc3,bxc3,Ne4,Qd3,f6,Rxe8,Rxe8,Re1,f5,c4,Kh8,Bc2,dxc4,Qxc4,Rc8,Qd3,Rc3,Qd1,Qc6,Bxe4,fxe4,Kf2,Rc2+,Re2,Rxe2+,Qxe2,Qd5,Ke3,b5,Qc2,a5,Qc8+,Kh7,Qc2,Kh8,g4,b4,Qc8+,Kh7,Qf5+', 'Qxf5,gxf5,a4', 'https://lichess.org/training/7ryS5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7rYwi', 'Rapid', 'arax-65', 1975, 'Astig', 2048, 'd4,Nf6,c4,e6,Nf3,c5,Bg5,cxd4,Qxd4,Be7,e4,Nc6,Qe3,Qa5+,Nc3,Bc5,Qd2,Bb4,Bxf6,gxf6,a3,Be7,Nb5,a6', 'Qxa5,Nxa5,Nc7+,Kd8,Nxa8', 'https://lichess.org/training/7rYwi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7s4n4', 'Blitz', 'FM HustlinHarper', 2384, 'FM Lagardeduroi007', 2323, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,h5,Bh7,Nf3,Nd7,Bd3,Bxd3,Qxd3,e6,Bd2,Ngf6,O-O-O,Qc7,Kb1,Bd6,Ne4,Nxe4,Qxe4,Nf6,Qe2,O-O-O,c4,c5,Bc3,Kb8,Ne5,cxd4,Bxd4,Ka8,Bc3,Bxe5,Bxe5,Qc6,f3,Rxd1+,Rxd1,Rc8,g4,b6,b3,Kb7,Rd6,Qc5,Qd3,Qg1+,Kb2,Qf2+,Kb1', 'Qe1+,Qd1,Qxe5', 'https://lichess.org/training/7s4n4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7S5Zy', 'Rapid', 'Batata_Presley', 1670, 'Roman071', 1607, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Bb5,Bd7,Nc3,e6,O-O,Nf6,Bg5,Be7,Qf3,O-O,Qg3,e5,Nxc6,bxc6,Ba4,Re8,Bh6,Nh5,Qf3,Nf6,Be3,Qa5,Bb3,d5,h3,Be6,Rad1,dxe4,Nxe4,Bxb3,axb3,Nxe4,Qxe4,Bf6,Rd7,Rad8,Rfd1,Rxd7,Rxd7,Qa1+,Kh2,Qxb2,Qxc6,h6,Qc7,e4,Rxf7', 'Be5+,Bf4,Bxc7', 'https://lichess.org/training/7S5Zy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7s9Gc', 'Rapid', 'ghifaree_12', 1613, 'Thekokoahong', 2123, 'e4,c6,Nc3,d5,exd5,cxd5,d4,Nc6,Nf3,Nf6,Bd3,e6,O-O,Bd6,Ng5,h6,Nh3,Nxd4,f4,Nc6,f5,e5,Qf3,e4,Re1,O-O,Bxe4,dxe4,Nxe4,Nxe4,Rxe4,Qf6,Bf4,Bxf4,Rxf4,Ne5,Qc3,Nd7,Qg3,Nb6,Raf1,Bd7,Rg4,Bc6,Nf4,Kh8,Nh5,Qxb2,Rxg7,Rae8,f6,Qd4+,Kh1,Re2', 'Rh7+,Kxh7,Qg7#', 'https://lichess.org/training/7s9Gc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7scRV', 'Rapid', 'kocu2006', 1908, 'pipe-2000', 1880, 'e4,c5,b3,e6,Bb2,d6,Nf3,a6,g3,Nd7,Bg2,Ngf6,O-O,Be7,Re1,O-O,d3,Qc7,e5,dxe5,Nxe5,Rd8,Nxd7,Rxd7,Nd2,Qd8,Ne4,Nd5,Qg4,Bf8,c4,f5,Qh3,fxe4,cxd5,exd5,dxe4,d4,e5,Rf7,e6,Rf6,e7,Bxe7,Qh5,Be6', 'Rxe6,Rxe6,Bd5,Kh8,Bxe6', 'https://lichess.org/training/7scRV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Se0O', 'Rapid', 'Movz', 1699, 'guestpadawan', 1705, 'd4,d5,c4,dxc4,Nc3,Nf6,e4,g6,Bxc4,Bg7,Nf3,O-O,O-O,a6,Bg5,b5,Bb3,Bg4,h3,Bxh3,gxh3,Nc6,d5,Na5,Bc2,Qd6,Qd2,Nc4,Qc1,Ne5,Nxe5,Qxe5,Bf4,Qh5,Bd1,Qxh3,Qe3,Qd7,Rc1,Rac8,Qg3,b4,Ne2,Nxe4,Qg2,Nf6,Bb3,Qb5,Nd4,Qb6,Nc6,Rce8,Rfe1,e6,dxe6,fxe6,Bxe6+,Kh8,Be3,Qb5,Bc4,Qh5,Nxb4,Ne4,Be2,Qa5,a3,Bxb2,Nc6,Qxa3,Rb1,Bg7,Rbc1,Nc3,Bg4,Na2,Bc5', 'Rxe1+,Rxe1,Qxc5', 'https://lichess.org/training/7Se0O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7sE7r', 'Rapid', 'mhmmhm', 1819, 'jadipunjadi', 1859, 'g3,d5,Bg2,e5,b3,Bf5,Bb2,Nc6,d3,d4,Nd2,Bb4,a3,Ba5,b4,Bb6,c3,Nge7,Ngf3,O-O,O-O,Re8,Nh4,Bg6,Nhf3,Nd5,cxd4,exd4,Nb3,a6,Nbxd4,Nxd4,Bxd4', 'Bxd4,Nxd4,Nc3,Qc2,Qxd4', 'https://lichess.org/training/7sE7r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7SepZ', 'Rapid', 'JMurrieta', 1626, 'dingetje', 1698, 'd4,d5,Bf4,c5,e3,Nc6,c3,Nf6,Nf3,e6,Nbd2,Bd6,Bg3,Bxg3,hxg3,Qd6,a4,a6,dxc5,Qxc5,Bd3,e5,Bc2,Bg4,Qc1,Rd8,O-O,O-O,Nh2,Bh5,e4,dxe4,Nxe4,Nxe4,Bxe4,f5,Bc2,Bf7,Bxf5,Bc4,Qc2,Bxf1,Bxh7+,Kh8,Rxf1,Nd4,Qg6,Ne2+,Kh1,Rf6,Qg4,Nxg3+,Qxg3,Kxh7,Ng4,Rg6', 'Qh4+,Kg8,Qxd8+', 'https://lichess.org/training/7SepZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7SG2W', 'Rapid', 'Border_Collie', 1801, 'alihaydi11', 2098, 'c4,Nf6,Nc3,e5,g3,Bc5,Nf3,d6,e3,O-O,Bg2,c6,O-O,h6,d4,exd4,exd4,Bb4,a3,Bxc3,bxc3,Bg4,Qb3,b6,h3,Bxf3,Bxf3,d5,cxd5,Nxd5,Re1,Qd7,Bg2,Na6,Re5,Nac7,Bf4,Rfe8,Rae1,Rxe5,Rxe5,Re8,Rxe8+,Qxe8,Qc4,Qe1+,Bf1,Qxc3', 'Qxc3,Nxc3,Bxc7', 'https://lichess.org/training/7SG2W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7SgUq', 'Rapid', 'Abulgazin', 1868, 'Alex_Gorik', 1886, 'd4,c5,c3,cxd4,cxd4,b6,e4,Bb7,Nc3,e6,a3,Qc7,Nf3,a6,g3,Nf6,Bg2,Nxe4,Bf4,d6,Nxe4,Bxe4,Rc1,Qb7,O-O,Be7,Nh4,Bxh4,Bxe4,Qxe4,gxh4,Qxf4', 'Rc8+,Ke7,Rxh8', 'https://lichess.org/training/7SgUq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7sIaG', 'Blitz', 'asamuel890', 2000, 'selenocystein19', 2012, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,c4,Bg7,Be3,d6,Nc3,Nf6,f3,O-O,Be2,Bd7,O-O,Rc8,Qd2,b6,b3,Nxd4,Bxd4,Bc6,Rad1,Nd7,Bxg7,Kxg7,Nd5,Bxd5,cxd5,a5,Bb5,Nc5,b4,axb4,Qxb4,Ra8,a4,Qc7,Rb1,Qa7,Bc6,Rab8,Kh1,Rfc8,f4,f6,Qd4,Qc7,Rf3,Rf8,Rh3,e5,Qe3,exf4,Qxf4,h5,g4,hxg4', 'Qh6+,Kg8,Qh8+,Kf7,Rh7#', 'https://lichess.org/training/7sIaG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7SjFW', 'Rapid', 'euphrates', 1799, 'catres', 1838, 'd4,c5,d5,Nf6,c4,b5,e3,bxc4,Bxc4,e6,dxe6,fxe6,Nc3,Be7,Nf3,O-O,b3,d5,Bd3,Bb7,Bb2,Nc6,O-O,e5,e4,d4,Nd5,Nxd5,exd5,Qxd5', 'Bc4,Qxc4,bxc4', 'https://lichess.org/training/7SjFW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7SmZo', 'Blitz', 'WCM kiana_arab', 2179, 'ir-palang', 2105, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Be3,Nc6,Bd3,a6,Qd2,Rb8,Nge2,Bd7,O-O,Nb4,Bb1,b5,cxb5,axb5,a3,Nc6,Bd3,Na5,Rac1,Nb3,Qc2,Nxc1,Rxc1,e5,d5,Ne8,Na2,f5,exf5,gxf5,Nb4,Nf6,Nc6,Bxc6,dxc6,e4,Qb3+,d5,Bc2,Kh8,Nd4,f4,Bxf4,exf3,Ne6,f2+,Kf1,Qe7,Nxf8,Rxf8,Qe3', 'Qxe3,Bxe3,Ng4', 'https://lichess.org/training/7SmZo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7SN2e', 'Blitz', 'GM Shant7777777', 2671, 'IM notstonedondrugs12', 2507, 'd4,Nf6,Nf3,e6,c4,d5,Nc3,Nbd7,cxd5,exd5,Bg5,h6,Bh4,Be7,e3,O-O,Bd3,c6,Qc2,Re8,O-O,Ne4,Bxe7,Qxe7,Rab1,a5,a3,Ndf6,b4,axb4,axb4,Nd6,b5,Bd7,bxc6,bxc6,Ne5,Ng4,Nxg4,Bxg4,Na4,Ra5,Nc5,Rea8,h3,Bd7,Rfc1,Be8,Qd1,Ra2,Ra1,Rxa1,Rxa1,Rxa1,Qxa1,Qc7,Qa8,g6,f3,Qb6,Qa3,Qc7,e4,Bd7,e5,Nf5,Qa4,Kg7,g4,Nh4,Kf2,g5,Qa8,Be6,Qe8,Qb6', 'Nxe6+,fxe6,Qe7+', 'https://lichess.org/training/7SN2e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7sO4O', 'Blitz', 'jaaap', 1977, 'mapi007', 2265, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Be3,a6,c4,Bb4+,Nc3,Nge7,Be2,O-O,O-O,b6,Rc1,Bb7,a3,Bc5,b4,Bxd4,Bxd4,Nxd4,Qxd4,Qc7,f4,Rad8,Bf3,d6,Na4,Nc8,f5,e5,Qe3,Bc6,Nc3,f6,Nd5,Bxd5,cxd5,Qb7,Rc6,Kh8,Rfc1,Rg8,Bh5,Rd7,g4,h6,Bg6,b5,h4,Ne7,Rb6,Qa7,Kf2,Nxg6,fxg6,Rf8,Rcc6,Rdd8,Rxa6,Qd7,Ra7,Qxg4,Rcc7,Rg8', 'Qxh6+,gxh6,Rh7#', 'https://lichess.org/training/7sO4O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7srlh', 'Blitz', 'villalbajaisson', 1872, 'Quetzalcoatl17', 1974, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Bd3,Bg4,h3,Bxf3,Qxf3,e6,O-O,Nc6,c3,Be7,Bf4,O-O,Qe3,h6,Nd2,a6,Nf3,Bd6,Bxh6,gxh6,Qxh6,e5,Bf5,Re8,Ng5,Bf8', 'Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/7srlh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7sRQ3', 'Rapid', 'antonvv', 2047, 'borisivanovich60', 2071, 'e4,c5,Nf3,Nc6,Nc3,e5,Bc4,Be7,O-O,Nf6,d3,O-O,Bg5,d6,Qd2,Nd4,Nxd4,cxd4,Ne2,Qb6,c3,Nxe4', 'dxe4,Bxg5,Qxg5', 'https://lichess.org/training/7sRQ3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7SuG3', 'Classical', 'bf12345', 1910, 'drwho1974', 1793, 'e4,e5,Nf3,Nc6,Bc4,Qf6,d3,Bc5,Bg5,Qg6,O-O,f6,Be3,Bb6', 'Nh4,Bxe3,Nxg6', 'https://lichess.org/training/7SuG3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7szpg', 'Classical', 'maamiio', 1994, 'Abtharhadani', 2034, 'e4,Nf6,e5,Nd5,Nf3,d6,d4,Bg4,h3,Bh5,Be2,Nc6,c4,Nb6,Nbd2,dxe5,dxe5,e6,O-O,Be7,b3,O-O,Bb2,Nb4,Nd4,Bxe2,Qxe2,c5,Nb5,a6,Nd6,Bxd6,exd6,Qxd6,Ne4,Qf4,g3,Qf5,g4,Qf4,Nxc5,Qc7,Qe3,Nc6,Qg5,e5,Rfe1,Rfe8,Rad1,f6,Qf5,Qe7,Ne4,Rad8,Rxd8,Rxd8,f4,Nd4,Bxd4,Rxd4,fxe5,Qxe5,Qxe5,fxe5,Nc5,Nd7,Nxb7,e4,c5,Ne5,Re2,Kf7,Nd6+,Ke6,Nxe4,Kd5,Nc3+,Ke6,c6,Rd3,Ne4,Kd5,c7,Rd1+,Kg2,Rc1,Ng5,Ng6,Rd2+,Ke5,Rd7,Kf4,Rf7+,Kxg5', 'Rf5+,Kh6,Rh5#', 'https://lichess.org/training/7szpg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7T0zj', 'Classical', 'aRiChEn', 1609, 'Doubleforward', 1855, 'd4,Nf6,c4,e6,Nc3,c5,Nf3,d5,cxd5,exd5,Bg5,Be6,Bxf6,Qxf6,e3,Be7,Bb5+,Nc6,Bxc6+,bxc6,dxc5,Bxc5,Qa4,Bd7,O-O,O-O,Rfe1,Qd6,e4,Rfe8,exd5,cxd5,Rxe8+,Rxe8,Qb3,Be6,Qc2,g6,Rd1,Qc6,Ne5,Qb7,Nxd5', 'Bxd5,Qxc5,Rxe5', 'https://lichess.org/training/7T0zj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7T2Zl', 'Rapid', 'dcvgi', 1716, 'xWalrus', 1723, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,d6,dxe5,Nxe5,Nxe5,dxe5,Qxd8+,Kxd8,Bxf7,Nf6,Nc3,Bd6,O-O,b6,Nd5,Nxe4,Ne3,Rf8', 'Bd5,Rb8,Bxe4', 'https://lichess.org/training/7T2Zl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7T7U7', 'Rapid', 'TeleRadio5', 1878, 'gouloum', 1853, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,e6,Nf3,Be7,cxd5,cxd5,e3,O-O,h3,a6,Bd3,Nbd7,O-O,Bd6,Qc2,b5,a3,Bb7,Ne5,Bxe5,dxe5,Nxe5,Bxf6,Qxf6,Bxh7+,Kh8,Bd3,Qg5', 'f4,Qh6,fxe5', 'https://lichess.org/training/7T7U7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7tE0p', 'Rapid', 'mband', 1696, 'Dizaaa', 1677, 'd4,c5,dxc5,e5,e4,Bxc5,Nf3,Nc6,Nc3,h6,Bc4,Nf6,O-O,O-O,Qe2,d6,Na4,Nd4,Nxd4,Bxd4,Kh1,a6,Nc3,b5,Bd5,Ra7,Be3,Bxe3,Qxe3,Ng4', 'Qxa7,Qh4,h3', 'https://lichess.org/training/7tE0p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7TIhD', 'Rapid', 'eds_pds', 1871, 'Gervasiodomingos', 1759, 'd4,d5,c4,Nf6,Nc3,e6,a3,Be7,Nf3,O-O,h3,h6,Bf4,Nh7,Rc1,Bg5,Nxg5,Nxg5,e3,c6,b4,a5,bxa5,Rxa5,Bxb8,Rxa3,c5,Bd7,Bd6,Re8,f4,Nh7,g3,Qa5,Qc2,Nf6,Bd3,Ra1,O-O,Rxc1,Rxc1,Ra8,Qb2,Ra7,e4,Bc8,e5,Ne8,g4,Qa3,Qxa3,Rxa3,f5,Kh8,fxe6,fxe6,Be7,g5,Bg6,Nc7,Kf2,Na6,h4,gxh4,Bxh4,Kg7,Bh5,Nb4,Kf1,Nd3,Bf6+,Kh7,Ne2', 'Nxc1,Nxc1,Ra1,Ke2,Rxc1', 'https://lichess.org/training/7TIhD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7tiWj', 'Rapid', 'namesake', 2236, 'taljechin', 2011, 'd4,d5,Nf3,Nf6,g3,c6,Bg2,g6,b3,Bg7,O-O,O-O,c4,Bg4,Bb2,e6,h3,Bxf3,Bxf3,Nbd7,Nd2,Rc8,Qc2,Re8,Bg2,e5,e4,dxe4,Nxe4,Nxe4,Bxe4,f5,Bg2,exd4,c5,d3,Qc4+,Kh8,Bxg7+,Kxg7,Qxd3,Nxc5', 'Qc3+,Qf6,Qxc5', 'https://lichess.org/training/7tiWj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7TJUr', 'Rapid', 'chadarangamatagadu', 1790, 'rat-for-breakfast', 1734, 'e4,e6,d4,d5,exd5,exd5,c3,Nf6,Bf4,Bd6,Bg5,O-O,Qf3,Re8+,Be2,Nbd7,Nd2,c6,O-O-O,Qa5,Kb1,h6,Bh4,Ne4,Bg3,Bxg3,hxg3,Ndf6,Nxe4,Nxe4,Bd3,Qb6,Bxe4,Rxe4,Qd3,Bf5,Qf3,Bg6,Ka1,Rae8,Nh3,Re2,Rb1,Rc2,Nf4,Be4,Qg4,f5,Qg6,Re7,Rxh6', 'Qxb2+,Rxb2,Rc1+,Rb1,Rxb1#', 'https://lichess.org/training/7TJUr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7tmI3', 'Rapid', 'jokin653', 1881, 'Iatsiuk', 1823, 'd4,Nf6,Nf3,b6,g3,Bb7,Bg2,d6,O-O,Nbd7,Re1,e5,dxe5,Nxe5,Nc3,Nxf3+,exf3+,Be7,Bg5,O-O,a3,Nd5,Bxe7,Nxe7,Qd3,Ng6,f4,Bxg2,Kxg2,Qd7,Re3,Rfe8,Rae1,Rxe3,Rxe3,Qg4,Qd5', 'Nxf4+,Kg1,Nxd5', 'https://lichess.org/training/7tmI3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7TNiA', 'Classical', 'Kagayari', 1659, 'haeh', 1618, 'd4,d5,c4,e6,Nc3,c5,e3,Nc6,cxd5,exd5,Nf3,Bg4,Be2,Nf6,O-O,h6,Qb3,b6,Re1,Bd6,Bd2,Qc7,g3,O-O,Nd1,Rac8,Bc3,c4,Qc2,Rfe8,Nh4,Nb4,Bxb4,Bxb4,Nc3,Bh3,Bf1,Bg4,Be2,Bh3,Qd1,g5,Nf3,Bd6,Nd2,a6,a3,Re7,Nf1,Rce8,Bf3,Ne4,Nxe4,Rxe4,Bxe4,Rxe4,f3,Re6,f4,g4,Qc2,h5,Qf5,Be7,Qxh5,Qc6,Rac1,Rh6,Qe5,Qg6,Qxe7,Qh7,Qe8+,Kg7,b4,Bxf1,Qe5+,Kf8,h4,gxh3,Kh2,Qd3,Qb8+,Kg7,Qe5+,Kh7,Qxd5,Qd2+,Kg1,h2+,Kh1,Qf2,Rxf1,Qxe3,Qxc4', 'Qe4+,Rf3,Qxf3#', 'https://lichess.org/training/7TNiA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7TPAp', 'Blitz', 'edgarmute', 1862, 'jrav1', 1817, 'Nf3,d6,d4,Bg4,Bf4,Bxf3,exf3,Nc6,Bc4,d5,Bb3,Na5,c3,Nxb3,axb3,Nf6,O-O,e6,Nd2,c5,Be3,cxd4,Bxd4,Bd6,Rxa7,Rxa7,Bxa7,Qc7,g3,O-O,Bd4,Nd7,Re1,f6,Be3,e5,Nf1,Kh8,Qxd5,Nb6,Bxb6,Qxb6,b4,Bb8,Ne3,Ba7,Rd1,h5,Kg2,Kh7,Rd2,Kh8,Nc4,Qc7,Qd7,Qxc4,Qxb7,Bb8,b5,h4,g4,Qf4,Qe7,Rg8,Re2,Qc4,Re4,Qxb5,g5,h3+,Kg3,fxg5', 'Rh4+,gxh4+,Qxh4#', 'https://lichess.org/training/7TPAp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7tU8Q', 'Rapid', 'Medi77', 1671, 'vas42777', 1771, 'e4,c5,Nf3,Nc6,Bc4,d6,d3,h6,h3,Nf6,Bd2,e6,Nc3,a6,a4,Be7,O-O,O-O,Qe2,Rb8,Rab1,Qc7,Na2,Rd8,b4,d5,exd5,exd5,Bb3,Be6,b5,axb5,axb5,Nb4,Nxb4,cxb4,Rfc1,Re8,c4,dxc4,Bxc4,Bc5,Bxb4,Bxb4,Rxb4,Bxc4,Rbxc4,Qb6,Qb2,Rbd8,Rd1,Re6,d4,Rde8,Ne5,Nd5,Rc5', 'Rxe5,dxe5,Qxc5', 'https://lichess.org/training/7tU8Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7tVRr', 'Classical', 'simplicio', 1843, 'JoanBB', 1860, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,d5,c4,Bb4+,Bd2,Bxd2+,Nbxd2,Nxd2,Qxd2,dxc4,Bxc4,O-O,O-O,Nc6,Rfe1,Bg4,Ne5,Nxe5,Rxe5,Re8,Qf4,Be6,d5,Qf6', 'Qxf6,gxf6,dxe6', 'https://lichess.org/training/7tVRr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7txK6', 'Classical', 'Gremuchnik', 2415, 'savvyd', 2123, 'e4,c6,Nf3,d5,exd5,cxd5,Ne5,Nc6,d4,Nf6,Bb5,Qc7,Bf4,e6,Nxc6,Qxf4,Ne5+,Nd7,Nxd7,Bxd7,Bxd7+,Kxd7,O-O,Bd6,g3,Qg5,c3,h5,Nd2,h4,Nf3,Qg4', 'Ne5+,Bxe5,Qxg4', 'https://lichess.org/training/7txK6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7ty2Z', 'Rapid', 'okrunner54', 1740, 'LotBlind', 1777, 'Nf3,Nf6,d4,d5,g3,Bf5,c3,h6,Bg2,Nbd7,Nbd2,c5,O-O,Qc7,Nh4,Bh7,f4,Ng4,Rf3,h5,Bh3,Ndf6,f5,O-O-O,Qe1,e6,e4,cxd4,cxd4,dxe4', 'Rc3,Bb4,Rxc7+', 'https://lichess.org/training/7ty2Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7u0Nc', 'Rapid', 'Magikas', 1992, 'anand_nathan', 2041, 'd4,Nf6,c4,g6,Nc3,c5,d5,d6,e4,Bg7,Nf3,Bg4,Be2,Nbd7,h3,Bxf3,Bxf3,a6,O-O,Ne5,Be2,h5,f4,Ned7,a3,h4,Bg4,Nh5,Bxh5,Rxh5,f5,Bd4+,Kh1,Ne5,fxg6,fxg6,Qe2,Qb6,Bf4,O-O-O,Rab1,Qb3,Rfc1,Nxc4,Qg4+,Kb8,Qxg6,Rhh8,Ne2,Rhg8,Qh7,Rg7', 'Nxd4,Qd1+,Rxd1', 'https://lichess.org/training/7u0Nc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7U3Rj', 'Blitz', 'Botvinokk', 2243, 'cachorro74', 2229, 'Nf3,Nf6,c4,e6,Nc3,d5,e3,Be7,b3,b6,cxd5,exd5,Bb2,Bb7,d4,O-O,Be2,Nbd7,O-O,c5,Rc1,Rc8,Rc2,cxd4,Nxd4,Ne4,Qa1,Bf6,Nf3,Re8,Rfc1,Qe7,Bb5,Bc6,Bxc6,Rxc6,Ne2,Rxc2,Rxc2,Nxf2,Bxf6,Nxf6,Kxf2,Qxe3+,Kf1,Ng4,Qd4,Qe6,Rd2,h6,h3,Ne3+,Kf2,g5,Nc3,g4,hxg4,Nxg4+,Kg3,Nf6,Nh4,Nh5+,Kh2,Qd6+,Kg1', 'Re1+,Kf2,Qg3#', 'https://lichess.org/training/7U3Rj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7uaEO', 'Rapid', 'DUNGURO', 1750, 'felipepergentino', 1752, 'Nf3,Nf6,b3,d6,Bb2,e5,d3,b6,c4,c5,e3,Bb7,Nc3,a6,Be2,Nbd7,O-O,Be7,Nd2,d5,cxd5,Nxd5,Nxd5,Bxd5,Bf3,Nf6,Bxe5,O-O,Nc4,b5,Nd2,Qd7,Rc1,Rac8,Bb2,Be6,Qe2,Bg4,Bxg4,Nxg4,h3,Nf6,d4,cxd4,exd4,Rfe8,Qf3,Nd5,Ne4,Rxc1,Rxc1,b4,Nc5,Qd6,Re1,Nc3,Bxc3,bxc3,Qxc3,Rc8,Qe3,Bf8,Qe5,h6,b4,Qb6,a3,Bd6,Qd5,Rd8,Qb7', 'Bxc5,Qxb6,Bxb6', 'https://lichess.org/training/7uaEO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7uDEG', 'Classical', 'paoloscaccomatto', 1679, 'TataMataSaha', 1609, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,d3,e5,Nf3,Nc6,Qe2,Bg4,Bf4,Nd4,Qxe5+,Qxe5+,Bxe5,Nxc2+,Kd2,Nxa1,Bxc7,Rc8,Be5,Bxf3,gxf3,Nc2,Bc3,Nb4,Bh3,Rd8', 'Re1+,Be7,Bxb4', 'https://lichess.org/training/7uDEG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7UjiU', 'Blitz', 'TngCtng', 1596, 'Khazfer', 1617, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,a6,Nc3,d6,Bc4,Nf6,Bg5,e6,Qf3,Be7,O-O-O,O-O,h4,Nxd4,Rxd4,e5,Rdd1,b5,Bd5,Nxd5,Nxd5,Bxg5+,hxg5,Qxg5+,Kb1,Be6,Rh5,Qg4,Qxg4,Bxg4', 'Ne7+,Kh8,Rxh7+,Kxh7,Rh1+,Bh5,Rxh5#', 'https://lichess.org/training/7UjiU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Ukiz', 'Classical', 'TreyHardee', 1710, 'NasiGorengCumi', 1624, 'c4,d6,d4,c6,Nc3,Nf6,Nf3,Nbd7,e3,a6,Bd3,e5,O-O,b5,dxe5,dxe5,cxb5,axb5,Ne4,Be7,Nxf6+,Bxf6,Be4,Bb7,Qc2,Qb6,b3,g6,Bb2,O-O,Rac1,c5,Bxb7,Qxb7,a4,bxa4,bxa4,e4,Bxf6,exf3,Be7,fxg2,Rfd1,Rfe8,Bxc5,Nxc5,Qxc5,Rxa4,Qg5,h5,Qxg2', 'Rg4,Qxg4,hxg4', 'https://lichess.org/training/7Ukiz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7ULAG', 'Rapid', 'Sanyipapi', 1725, 'Francis_capa', 1774, 'Nf3,d5,d4,Nc6,a3,Bg4,e3,a6,Be2,Nf6,h3,Bh5,Nbd2,e6,b4,Bd6,Bb2,b5,O-O,h6,Ne5,Nxe5', 'dxe5,Bxe2,Qxe2', 'https://lichess.org/training/7ULAG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7UM5J', 'Blitz', 'Tu-ra', 1712, 'Dr_Nautilus', 1672, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Be2,e6,O-O,Bd6,Nc3,Ne7,h3,Bh5,Be3,Nbc6,Ng5,Bxe2,Qxe2,h6,Nf3,O-O,Qd2,Qb6,b3,Qc7,Bxh6,gxh6,Qxh6,Nf5,Qg5+,Ng7,h4,Be7,Qh6,Nf5,Qh5,Qf4,Ne2,Qh6,Qg4+,Qg7,Qh5,Ncxd4,Nfxd4,Nxd4,Nf4,Nf5,g3,Nxh4,Kh2,Ng6,Rae1,Nxf4,gxf4,Bd6,Rg1,Bxf4+,Kh3,Rac8,Rxg7+,Kxg7,Rg1+,Kf6,Qh4+,Ke5,Re1+,Kf5,Qh5+,Kf6,Kg2,Rg8+,Kf1,Rh8,Qf3,e5,Ke2,Rxc2+,Kf1,d4,Qxb7,Rxa2,Qc6+,Kf5,Qd7+,Kg5,Qe7+,Kg4,Qf6,Rh1+,Kg2,Rxe1,Qg6+,Bg5,Qxf7,Ree2', 'Qf3+,Kh4,Qh3#', 'https://lichess.org/training/7UM5J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7UmBH', 'Rapid', 'Tt_ball', 1621, 'MyBetaVersion', 1654, 'e4,c5,Bc4,e6,Nf3,d5,exd5,exd5,Bb3,Qe7+,Qe2,Qxe2+,Kxe2,c4,Ba4+,Bd7,Bxd7+,Nxd7,Re1,O-O-O,Kf1,Ngf6,Rd1,Bc5,d3,Rhe8,dxc4,dxc4,Nc3,Ne5,Nxe5,Rxd1+,Nxd1,Rxe5,Be3,Ne4,Bxc5', 'Nd2+,Kg1,Re1#', 'https://lichess.org/training/7UmBH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7uMDk', 'Rapid', 'DiegoGonzalezR1', 2011, 'Marc605', 2045, 'e4,e5,Nf3,Nf6,Bc4,Nc6,c3,Be7,Qe2,O-O,d3,d5,exd5,Nxd5,Bb3,Bf6,Nbd2,Re8,Ne4,Bg4,h3,Bh5,g4,Bg6,g5,Be7,h4,Bh5,Bd1,Nf4,Bxf4,exf4,Qc2,f5,Ned2,Bxg5+,Kf1,Bf6,d4,g6,Rg1,Qd5,Qb3,Qxb3,axb3,a6,Kg2,Re7,Nc4,Rae8,Na5,Nxa5,Rxa5,Bxf3+,Bxf3,c6,h5,Kf7,hxg6+,hxg6,d5,Re5,Rga1,Bd8,R5a4,c5,Rxf4,g5,Bh5+,Kf6,Bxe8,gxf4,Kf3,Rxe8,Kxf4,Bc7+,Kf3,Re5,c4,Re4,Rh1,Rf4+,Ke3,Rg4,Rh7,Rg7,Rh8,Re7+,Kf3,Ke5,Rh6,Bd6,Ke3,b5', 'f4#', 'https://lichess.org/training/7uMDk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7UmH6', 'Rapid', 'R22Cosh', 1774, 'asus111', 1796, 'd4,e6,c4,Nf6,a3,c6,Nc3,Bd6,e4,Be7,e5,Ng8,Nf3,d6,Bf4,dxe5,Bxe5,Bf6,Be2,Nd7,Bxf6,Ndxf6,Qd2,Nh6,Qg5,O-O,O-O,Nf5,Rfd1,h6,Qf4,Nh5,Qg4,Nf6,Qf4,a5,Ne4,Nxe4,Qxe4,Qf6,Ne5,Nd6,Qg4,a4,Rd3,Ra5,Rg3,Nf5,Rh3,Rd8,Rd1,c5,dxc5', 'Rxd1+,Bxd1,Qxe5', 'https://lichess.org/training/7UmH6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7UMN3', 'Rapid', 'naser42', 1700, 'JirkaF', 1895, 'e4,d5,Qe2,d4,d3,e5,Qh5,Nc6,a3,Nf6,Qf3,Bg4,Qg3,Qd7,h3,Be6,Bg5,O-O-O,Qh4,Be7,Nf3,Kb8,Be2,h6,Bxf6,g5,Qg3,Bxf6,Nh2,h5,Nd2,Be7,f3,f5,O-O-O,f4,Qf2,Na5,Nc4,Nxc4,dxc4,Qa4,Qf1,Bxa3,bxa3,Qxa3+,Kd2,Qe3+,Ke1,Bxc4,Qf2,Qc3+,Rd2,Bxe2,Qxe2,Rd6,Kf2,Rb6,Rc1,g4,hxg4,h4,Rd3,Qc6,c3,h3,Qc2,Qe6,cxd4,Rc6,Qb3', 'Qxb3,Rxb3,Rxc1', 'https://lichess.org/training/7UMN3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7umx4', 'Classical', 'Fletcher66', 1672, 'jarek6363', 1835, 'd4,e6,e3,Nf6,Bd3,Nc6,Nf3,g6,c3,Bg7,O-O,O-O,Nbd2,d5,b4,a6,Re1,Re8,a3,e5,dxe5,Nxe5,Nxe5,Rxe5,e4,dxe4,Bxe4,Nxe4,Nxe4,Qxd1,Rxd1,Rxe4', 'Rd8+,Bf8,Bh6,Bd7,Rxa8,Re8,Rxe8', 'https://lichess.org/training/7umx4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Uopo', 'Rapid', 'karimdel2', 1961, 'Glyffo', 1953, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e6,O-O,Be7,Be3,b5,Bf3,Bb7,e5,Bxf3,Qxf3,dxe5,Qxa8,exd4,Rad1,Bc5,Ne2,Qc7,Bxd4,Bxd4,Nxd4,O-O,Qf3,Rc8,c3,Nbd7,Qd3,Nb6,Qg3,Qc5,Nb3,Qf8,Qd6,Nc4,Qxf8+,Kxf8,Rb1,h5,Rfd1,g5,Nd2,Nb6,Nf3,g4,Ne5,Nbd5,g3,Ne4,Rd4,f5,f3,gxf3,Nxf3,Ke7,Rbd1,Ne3,R1d3,Ng4,h3,Ngf6,Ne5,Nc5,Rd1,Nb7,Nd7,Nd5,Ne5,Kf6,Nf3,Ne3,R1d3,Nd5,g4,hxg4,hxg4,Nc5,g5+,Kg6,Ne5+,Kg7,Rd1,Ne4,Kg2,Nxg5,Nd7,Rc7,Ne5,Kf6,Nf3,Ne4,Nd2', 'Ne3+,Kf3,Nxd1', 'https://lichess.org/training/7Uopo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7uPje', 'Blitz', 'Vlad373', 1966, 'pixenix', 2076, 'Nf3,d5,e3,Nf6,c4,e6,Nc3,c6,b3,Nbd7,Bb2,Be7,g3,O-O,Bg2,Rb8,O-O,a6,d4,b5,cxd5,cxd5,Rc1,Bb7,Ne2,Ne4,Nf4,Qa5,a3,Bxa3,Ra1,b4,Qd3,Rfc8,Rfc1,Bc6,Ne5,Nxe5,dxe5,Bb5,Rxc8+,Rxc8,Qd1,Nc3,Bxc3,bxc3,Qc2,Qb4,Bf1,Bb2,Rb1,Bxf1,Kxf1,Ba3,Kg2,Qb8,Ra1,Be7,Rxa6,Qxe5,Nd3,Qe4+,Kg1,Bf6,b4,Rb8,Ra4,g6,b5,Qf3,Rb4,Ra8,b6,Rb8,Nc5,Be7,Qxc3,Qd1+,Kg2,h5,b7,h4,Rb5,f5,Nxe6', 'h3+,Kxh3,Qf1#', 'https://lichess.org/training/7uPje');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7uS9R', 'Rapid', 'MatiesTugores', 1839, 'bastianmunz', 1741, 'd4,e6,Nf3,c6,a3,d5,c4,Bd6,Nc3,Nd7,c5,Bc7,e4,dxe4,Nxe4,h6,Be3,Ndf6,Nc3,Nd5,Nxd5,exd5,Bd3,Nf6,O-O,O-O,Qd2,Ng4,h3,Nxe3,Qxe3,Re8,Qd2,Qf6,Bc2,Bf5,Rad1,Bxc2,Qxc2,b6,b4,a5,Rfe1,Reb8,Ne5,Bxe5,dxe5,Qe6,cxb6,axb4,axb4,Rxb6,Qb1,Rab8,Rd4,c5,Rf4,cxb4,Rd4,Rb5,f4,Qb6,Rd1,b3,Kh2,b2,Rxd5,Rb4,Rd6,Qc7,f5,Ra8,R1d2,Ra1,Qxb2,Rxb2,Rxb2,Ra8,Rbd2,f6,e6,Kf8,g3,Re8,Rd7,Qc5,g4,Qe5+,Kg2,Qe4+,Kg3,Qe3+,Kh4,Qg5+,Kg3,Qe3+,Kh4,g5+,Kh5,Qxh3+,Kg6,Rxe6,fxe6,Qxg4,Rf7+,Ke8,Rxf6,h5,Rdf2,h4,Rf8+,Ke7,R8f6,h3,Rd2,Qe4+,Kg7,g4', 'Rd7+,Ke8,Rf8#', 'https://lichess.org/training/7uS9R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7UsCT', 'Blitz', 'NowIEatYou', 2101, 'chess0819', 2167, 'd4,d5,c4,dxc4,e4,e5,Nf3,Bg4,Bxc4,exd4,Bxf7+,Kxf7,Ne5+,Ke8,Qxg4,Nf6,Qe6+,Qe7,Qc8+,Qd8,Qxb7,Nbd7,Nxd7,Nxd7,O-O,Bc5,Bg5,Qc8,Qd5,h6,Qe6+,Kf8,Qf5+,Kg8,Bh4,Qe8,f4,Qf7,Qg4,Re8,Nd2,Bb4,Rad1,Bxd2,Rxd2,Rxe4,Qf3,Qf5,g4,Qe6,f5,Qe8,f6,Nxf6,Bxf6,gxf6,Qxf6,Rxg4+,Kh1,Qe4+,Qf3,Rh7,Qxe4,Rxe4,Rfd1,Rd7,Kg2,c5,Kf3,Re3+,Kf4,Rf7+,Kg4,Kh7,b4,Kg6,bxc5', 'h5+,Kh4,Rf4#', 'https://lichess.org/training/7UsCT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7UTki', 'Classical', 'heyitsMiro', 1852, 'szyart', 1851, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,h3,Bf5,Bf4,Nf6,Bd3,Bxd3,Qxd3,Ne4,O-O,Qb6,Nc3,Nxc3,bxc3,Qd8,Rab1,b6,Ng5,h6,Nxf7,Kxf7,Qf5+,Kg8,Qe6+,Kh7,Qxc6,Rc8,Qe6,Rxc3,Bd2,Rxc2', 'Qf5+,g6,Qxc2', 'https://lichess.org/training/7UTki');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7UxQr', 'Rapid', 'cebccn', 2005, 'SachsenbrunnBrett3', 2089, 'e4,c5,Nc3,d6,f4,Nf6,Nf3,g6,Bc4,Bg7,O-O,Nc6,d3,O-O,Qe1,a6,a3,b5,Ba2,Qb6,Kh1,b4,axb4,Nxb4,Na4,Qc6,Rf2,Bd7,e5,Ng4,Re2,Qxa4,Bxf7+,Rxf7,Rxa4,Bxa4,b3,Bc6,h3,Nh6,Ng5,Rf5,Kh2,dxe5,g4,Rxg5,fxg5,Nf7,h4,Nd6,h5,e4,dxe4,Be5+,Kh3,Rf8,hxg6,hxg6,Rf2,Rxf2,Qxf2,Nxe4,Qf1,Nxc2', 'Qc4+,Kg7,Qxc2', 'https://lichess.org/training/7UxQr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7UyJO', 'Rapid', 'samdb', 1859, 'Vaterpas11', 1983, 'e4,e6,Nf3,d6,Bc4,Be7,O-O,Nf6,Nc3,Nbd7,d4,c5,dxc5,Nxc5,e5,dxe5,Qxd8+,Bxd8,Nxe5,O-O,Nb5,a6,Nd6,b5,Be2,Rb8,Bf3,Be7,Nxc8,Rbxc8,c3,Bd6,Bf4,Nfe4,Bxe4,Nxe4,f3', 'Bc5+,Kh1,Nf2+,Rxf2,Bxf2', 'https://lichess.org/training/7UyJO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7v1tj', 'Blitz', 'anishbaskar', 2059, 'Neadekvat', 1969, 'c4,f6,g3,e5,Bg2,Nc6,Nc3,Bb4,Qb3,Bxc3,Qxc3,Nge7,Nf3,O-O,O-O,d6,d4,exd4,Nxd4,Bd7,b4,Rb8,b5,Nxd4,Qxd4,Nf5,Qd5+,Kh8,Bf4,Ne7,Qd3,Ng6,Be3,b6,a4,Qe7,a5,Be6,axb6,axb6,Ra7,Ne5,Qc3,Nxc4,Bf4,Ne5,Rxc7,Qe8,Rd1,Rc8,Rxc8,Qxc8,Bxe5,dxe5,Qc6,Bb3,Rd7,Rd8,Rc7,Rd1+,Bf1,Qh3,Rc8+,Bg8', 'Rxg8+,Kxg8,Qe8#', 'https://lichess.org/training/7v1tj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7V3eN', 'Blitz', 'Malat', 1742, 'javadss', 1769, 'd4,d5,c4,dxc4,Nc3,Nf6,e4,c6,Bxc4,e6,Be3,b5,Bb3,a5,Qf3,Bb7,Nge2,a4,Bc2,Qd7,O-O,Be7,e5,Nd5,Nxd5,exd5,Bf5,Qd8,e6,O-O,Qh5,g6,exf7+,Rxf7,Bxg6,hxg6,Qxg6+,Rg7,Qe6+,Rf7,Bh6,Qd6,Qg4+,Kh7,Bf4,Qg6,Qh3+,Kg8,Be5,Bf6,Nf4,Qh7,Qg4+,Qg7,Qe6,Bxe5,dxe5,Na6', 'Nh5,Nc7,Nxg7,Nxe6,Nxe6', 'https://lichess.org/training/7V3eN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7v532', 'Rapid', 'Arsen_11-02-2009', 1674, 'Kharchenko-Elisei', 1813, 'd4,d5,c4,dxc4,e3,e6,Bxc4,Nf6,Nf3,Be7,Bd2,O-O,Nc3,Nc6,O-O,Bd7,Qb3', 'Na5,Qc2,Nxc4', 'https://lichess.org/training/7v532');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7V5dR', 'Classical', 'jannow65', 1670, 'mantubarman', 1720, 'e4,c5,Nc3,e5,Nf3,d6,Bc4,Qe7,d3,Be6,Bb3,Nc6,O-O,Nf6,h4,g6,Be3,Bg7,Qd2,O-O,Ng5,h6,Nxe6,fxe6,Bxh6,Bxh6,Qxh6,Kf7,Qg5,Rh8,f4,Rh5,Qg3,Rf8,fxe5,Nxe5,Rf2,Ke8,Raf1,Nfg4,Rxf8+,Kd7,Ba4+,Kc7,Nb5+,Kb6,Nc3,Rxh4,Bb3,Qh7,Na4+,Kc7,R8f7+,Nxf7,Rxf7+,Qxf7,Qxh4,Qf4,Nc3', 'Qc1+,Nd1,Qxd1+,Qe1,Qxe1#', 'https://lichess.org/training/7V5dR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7V7A5', 'Rapid', 'Muho1903', 1679, 'Versuch-und-Irrtum', 2026, 'd4,Nf6,c4,g6,g3,Bg7,Bg2,d5,c5,b6,cxb6,axb6,Nf3,O-O,O-O,Ba6,Nc3,e6,Re1,c5,dxc5,bxc5,e4,d4,e5,Nd5,Nxd5,exd5,e6,fxe6,Rxe6,Bc8,Re1,Nc6,Nh4,Bb7,Qb3,Na5,Qb5,c4,Bf4,Bc6,Qc5,d3,b4,cxb3,axb3,Nxb3,Qxc6,Nxa1,Bxd5+,Kh8,Nxg6+,hxg6,Qxg6,Qxd5,Re4,Nc2,Be5,Qf7', 'Rh4+,Kg8,Qh7#', 'https://lichess.org/training/7V7A5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7VbyN', 'Rapid', 'DonIran', 1668, 'yanaz67', 1682, 'd4,d5,c4,dxc4,Nf3,Bg4,e3,e6,Bxc4,Nf6,h3,Bh5,Nc3,Bb4,Be2,Bxc3+,bxc3,Bg6,Ba3,Qd5,O-O,Nbd7,Qa4,b6,Ne5,Qa5,Qb3,Nxe5,dxe5,Qxe5,Rad1,a6,Bf3,Be4,Bxe4,Nxe4,Qb4,Nc5,Rd4,O-O,Rfd1,a5,Qb5,Qh5,Bxc5,bxc5,Rd7,Rfb8', 'Qxb8+,Rxb8,Rd8+,Rxd8,Rxd8#', 'https://lichess.org/training/7VbyN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7vEjE', 'Rapid', 'bv65', 2178, 'Dtronn', 1765, 'd4,d5,c4,e6,Nc3,c5,Nf3,a6,e3,Nf6,Be2,Bd6,cxd5,exd5,dxc5,Bxc5,b3,Be6,Bb2,O-O,Qd3,Nc6,Ng5,Ne5,Qc2,h6,h4,Qd7,O-O-O,Bf5,e4,Bg6,f4,Neg4,h5,Ne3,Nxd5,Nxc2', 'Nxf6+,gxf6,Rxd7', 'https://lichess.org/training/7vEjE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7VFzn', 'Rapid', 'LeXuSBisHOP', 1700, 'godson10', 1802, 'd4,h6,e4,d5,e5,a6,c4,e6,Nf3,b6,Nc3,Bb4,a3,Bxc3+,bxc3,Nc6,cxd5,exd5,Bf4,Nge7,Bd3,O-O,O-O,Bg4,Bc2,Qc8,Qd2,Bxf3,gxf3,Qh3,Bg3,Ng6,f4,Nce7,f3,f6,Rf2,fxe5,fxe5,Nf5,Bxf5,Rxf5,Kh1,Raf8,f4,Rh5,Qe3,Rh4,Re1,Rg4,f5,Re4,Qd2,Rxf5,Rxf5,Qxf5,e6,Qf3+,Kg1,Nf4,Rxe4', 'Nh3#', 'https://lichess.org/training/7VFzn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7vilq', 'Rapid', 'Elkapan', 1719, 'DDVVVV', 1720, 'Nf3,e6,e4,Nc6,Bb5,a6,Ba4,b5,Bb3,Bb7,a4,bxa4,Bxa4,Nf6,d3,Bc5,h3,h6,Nc3,O-O,O-O,d5,d4,dxe4,Nxe4,Nxd4,Nxc5,Bxf3,gxf3,Qd5,Ne4,Nxe4,fxe4,Qxe4,f4,Rfd8,Qd3', 'Ne2+,Kf2,Rxd3', 'https://lichess.org/training/7vilq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7vpJP', 'Blitz', 'hardtarget34', 1876, 'muhada', 1864, 'e4,e5,Nf3,d5,d4,exd4,exd5,Bd6,Nxd4,Nf6,Bc4,O-O,O-O,Nbd7,Bg5,Nb6,Bb3,Be5,c4,a5,a4,c6,Re1,Bxd4,Qxd4,cxd5,Bxf6,Qxf6,Qxf6,gxf6,c5,Nc4,Nc3,Be6,Rad1,Nxb2,Rd2,Nc4,Rd4,Rad8,Red1,Nb2,R1d2,Nc4,Bxc4,Rc8,Bxd5,Rxc5,Bxe6,Rxc3,Bd7,Rd8,Bg4,Rxd4,Rxd4,Ra3,h3,Rb3,Bd7,Kg7,Bb5,Rc3,Rg4+,Kh6,Rg8,Rc7,Kh2,f5,Kg3,f6,Rf8,Kg6,h4,h5,Be8+', 'Kg7,Rf7+,Rxf7,Bxf7,Kxf7,Kf4,Ke6', 'https://lichess.org/training/7vpJP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7VqGF', 'Rapid', 'pablitoescobarr', 1615, 'wiggen33', 1634, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,Nc6,O-O,e6,a3,Be7,d3,O-O,Ne2,d5,exd5,exd5,Bb3,Bg4,Ng3,Nd4,h3,Bxf3,gxf3,Nxb3,cxb3,d4,Kh2,Bd6,Rg1,Qc7,Kh1,Nd5,Nf5,Bf4,Nxg7,Kh8,Bxf4,Nxf4,Rg3,Rg8,Qg1,Nxh3,Qh2,Nxf2+,Qxf2,Rxg7,Rxg7,Kxg7,Rg1+,Kh8,Qh4,Qc6,Qh5,f6,Rg6,Re8,Rxf6', 'Re1+,Kg2,Qxf6', 'https://lichess.org/training/7VqGF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7vqpQ', 'Classical', 'bazzilio', 1948, 'sathvik123', 1656, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Bb5,a6,Bxc6+,bxc6,Nxc6,Qc7,Nd4,Bb7,O-O,Nxe4,Nxe4,Bxe4,Re1,Bb7,a4,g6,Ra3,Bg7,Bg5,e5,Rc3,Qd7,Nf3,Bxf3,Rxf3,O-O,Bf6,Bxf6,Rxf6,Rfd8,Re3,Qxa4,Ra3,Qh4,Qf3,Ra7,b3,e4,Qc3,d5,Raxa6,d4,Qc4,Rxa6,Qxf7+,Kh8,Rxa6,Qg5,Qf6+', 'Qxf6,Rxf6,d3,cxd3,exd3', 'https://lichess.org/training/7vqpQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7VrAp', 'Rapid', 'Currchess', 1697, 'drbluckburn', 1705, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nf3,Nf6,Nc3,Be7,Bc4,O-O,O-O,a6,a4,d6,Re1,Bg4,h3,Bh5,Re3,Nd4,Be2,Nxe2+,Qxe2,Bg6,Nh4,Bh5,g4,Nxg4', 'hxg4,Bxh4,gxh5', 'https://lichess.org/training/7VrAp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7VrdR', 'Rapid', 'keic', 1942, 'Profant', 1896, 'e4,e6,b3,d5,Bb2,c5,e5,Nc6,f4,d4,Nf3,f6,c3,fxe5,fxe5,Nge7,cxd4,cxd4,Bb5,Nf5,O-O,a6,Bxc6+,bxc6,g4,Nh4,Nxd4,Bc5,Rf4,Qg5,Qf1,Bd7,Kh1,Qxe5,d3,Qd5+,Re4,Rf8,Qh3,Rf4,Nc3,Qg5,Nxe6,Bxe6,Rxe6+,Kf7,Rae1,Rf3,Ne4,Qf4,Qxh4', 'Rf1+,Kg2,Qf3#', 'https://lichess.org/training/7VrdR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7VSj8', 'Rapid', 'HerrSpecht', 1682, 'GuyDebored', 1735, 'd4,Nf6,c4,g6,Nc3,d5,Bg5,Ne4,Nxe4,dxe4,e3,Bg7,g3,c5,Ne2,Qb6,Qc2,cxd4,exd4,Bxd4,Qxe4,Qb4+,Bd2,Qxb2', 'Qxd4,Qxd4,Nxd4', 'https://lichess.org/training/7VSj8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7vvjl', 'Rapid', 'landa666', 1879, 'cullien', 1873, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Bd6,d3,Nf6,Nbd2,O-O,Nc4,Bg4,h3,Bh5,g4,Bg6,Nfxe5,Re8,Nxg6,hxg6,Nxd6,cxd6,f4,Qb6+,Kg2,Re7,b3,Rae8,Bb2,d5,e5,Nd7,Qd2,f6,d4,c5,c3,cxd4,cxd4,Nb8,Rfe1,Nc6,Rac1,g5,fxg5,fxe5,dxe5,d4,Rcd1,Nxe5,Bxd4', 'Qc6+,Kg3,Qf3+', 'https://lichess.org/training/7vvjl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7vXWV', 'Rapid', 'javigallen', 1694, 'f1bookkor', 1721, 'e4,e5,Nf3,Nc6,Nc3,Nf6,a3,Bc5,h3,d6,d3,Be6,Bg5,Nd4,Nxd4,Bxd4,Qd2,h6,Bh4,g5,Bg3,Nh5,Be2,Nxg3,fxg3,Qf6,O-O-O,Qf2,Rhf1,Qxg2,Nb5,Bb6,Rg1,Qxh3,Rdf1,Bd7,Nc3,Bxg1,Rxg1,Qe6,Nd5,O-O-O,Qc3,Bc6,Ne3,d5,Bg4,d4,Bxe6+,Kb8,Qc4,dxe3,Bg4,Rd4,Qxf7,Rdd8,Be2,Rdf8,Qc4,a6,b4,Bb5,Qb3,Rf2,Re1,Rg2,Bf3,Rxg3,Rxe3,Rf8,Qe6,Rfxf3,Rxf3,Rxf3,Qd5,g4,Qxe5,g3,c4,g2,Qh8+,Ka7,Qd4+,b6,Kb2,Rxd3,Qg1,Bxc4,Qxg2,Kb7,e5+,Ka7,Qc2,b5,a4,Re3', 'Qf2,Kb7,Qxe3', 'https://lichess.org/training/7vXWV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7VYlh', 'Rapid', 'adel1999', 1986, 'BogPriseda', 1884, 'c4,e5,Nc3,d6,Nf3,Bf5,d4,Nc6,e4,Bg4,d5,Nd4,Be2,Nxe2,Qxe2,Be7,O-O,h5,Qd3,h4,h3,Bxf3,Qxf3,g5,Ne2,Qd7,b3,O-O-O,a4,Nh6,a5,g4,hxg4,Nxg4,Qh3,f5,f3,Rdg8,fxg4,fxg4,Qe3,b6,axb6,cxb6,b4,g3,Rf5,h3,Nxg3,hxg2,Bd2,Bg5,Rf8+,Kb7,Rxa7+,Kxa7,Qa3+,Kb7', 'Qa8+,Kc7,Qa7#', 'https://lichess.org/training/7VYlh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7w3GU', 'Rapid', 'Ednim', 1605, 'burgerman', 1618, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,Nf3,d6,Bd3,Bg4,h3,Bd7,O-O,Qc8,Bg5,Bxh3,gxh3,Qxh3,Bxf6,Bxf6,Nh2,Bxd4,Qf3,Qh4,Nd5,Bxb2,Rab1,Be5,Qg2,Nc6,Rxb7,Nd4,Rxc7', 'Bxh2+,Qxh2,Nf3+', 'https://lichess.org/training/7w3GU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7W4Oi', 'Rapid', 'Orhanmatzir', 1811, 'Beefsmoothie', 1777, 'e4,e5,Bc4,Nf6,Nf3,Nxe4,Nxe5,d5,Bb5+,c6,Qf3,Be6,Bd3,Bd6,Bxe4,Bxe5,Bf5,O-O,Bxe6,fxe6,Qh3,Qf6,O-O,Bxb2,Bxb2,Qxb2,Qxe6+,Kh8,Nc3,Qxc2,Qe7,Na6,Qxb7,Nc5,Qxc6,Ne4,Qxd5,Nxc3,dxc3,Qxc3,Rac1,Qf6,Rc7,Rae8,Rxa7', 'Qxf2+,Rxf2,Re1+,Rf1,Rexf1#', 'https://lichess.org/training/7W4Oi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7WaYw', 'Rapid', 'amog', 1865, 'DSHANe', 1950, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb4+,Nc3,Nf6,d5,Ne7,Qa4+,Bd7,Qxb4,O-O,O-O,Ng6,h3,Re8,Bd3,Nh5,Qxb7,Nhf4,Bxf4,Nxf4,Qa6,Bxh3,gxh3,Nxh3+,Kh2,Nf4,Ne2,Qf6,Nxf4', 'Qxf4+,Kg2,Qg4+', 'https://lichess.org/training/7WaYw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7WBGL', 'Rapid', 'saitamr', 1731, 'Jankes1973', 1683, 'b3,d5,Bb2,d4,e3,e5,exd4,exd4,Qh5,Nf6,Qe5+,Be7,Qxd4,Bd7,Nc3,c5,Qf4,O-O,Be2,Bc6,Nf3,Bd6,Qg5,h6,Qh4,Re8,O-O,Qc7,Bd1,Nbd7,a4,Ne5,Nxe5,Bxe5,Rb1,Bd6,Nb5,Bxb5,axb5,Re4,Qh3,Nd5,Bf3,Nf4,Qf5,Ne2+,Bxe2,Bxh2+,Kh1,Rh4,Bg4', 'Bg1+,Kxg1,Qh2#', 'https://lichess.org/training/7WBGL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7WcJK', 'Bullet', 'IM Erottev', 2464, 'celvic', 2058, 'd4,Nf6,Nf3,c5,c4,cxd4,Nxd4,Nc6,Nc3,e6,g3,Bc5,Nb3,Bb6,Bg2,O-O,c5,Bc7,O-O,b6,Nb5,bxc5,Nxc7,Qxc7,Nxc5,Nb4,Bxa8,Qxc5,Bg2,d5,a3,Nc2,b4,Qc4,Rb1,Ba6,b5,Bb7,Bb2,Rc8,Rc1,Qb3,Bxf6,gxf6,f4,a6,Rf3,Qb2,b6,Rc4,Rd3', 'Ne3,Rb1,Nxd1,Rxb2,Nxb2', 'https://lichess.org/training/7WcJK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7WcPF', 'Rapid', 'SEmoGamal', 1663, 'chessvlad23', 1660, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,d5,exd5,Nxd5,Bc4,Nxc3,bxc3,Bd6,O-O,O-O,Re1,Qh4,Nf3,Qf6,Bb2,Bg4,Be2,Bxf3,Bxf3,Ne5,c4', 'Nxf3+,Qxf3,Qxb2', 'https://lichess.org/training/7WcPF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7WD4g', 'Classical', 'solidus4171', 1711, 'opti_mistic', 1627, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Be7,O-O,Nf6,Re1,O-O,d4,d6,Ba3,Na5,Bb5,c6,Ba4,b5,Bc2,Nc4,Bb4,a5,dxe5,axb4,exf6,Bxf6,Qd3,bxc3', 'e5,g6,exf6', 'https://lichess.org/training/7WD4g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7wDtv', 'Rapid', 'mihbell', 1784, 'Ded1948en', 1765, 'd4,d5,c4,dxc4,e3,b5,a4,c6,axb5,cxb5,Qf3,Nc6,Qxc6+,Bd7,Qb7,Nf6,Rxa7,Rxa7,Qxa7,e6,Nc3,Bb4,Bd2,Ne4,Nge2,Nxd2,Kxd2,O-O,g3,Qf6,Nf4,Bc6,Rg1,g5,Nh3,Qf5,Qb6,Be8,Bg2', 'Qd3+,Kc1,Bxc3', 'https://lichess.org/training/7wDtv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7wdVN', 'Rapid', 'deyan70', 1915, 'Sabrinho10', 1915, 'e4,c5,Nf3,Nc6,Bb5,d6,O-O,Bd7,Re1,Nf6,c3,g6,d4,cxd4,cxd4,Bg7,Nc3,a6,Bf1,O-O,Bf4,Re8,Qd2,e5,dxe5,dxe5,Bg5,Qc7', 'Bxf6,Bxf6,Nd5,Qd8,Nxf6+,Qxf6,Qxd7', 'https://lichess.org/training/7wdVN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7WdYD', 'Classical', 'eltricolor', 1867, 'endurings', 1852, 'd4,d5,Bf4,e6,e3,c5,c3,Nc6,Nd2,h6,Ngf3,Nf6,h3,cxd4,exd4,a6,Bd3,Bd6,Ne5,O-O,O-O,Ne7,Bh2,Nf5,Re1,Nh7,Qc2,b5,g4,Ng5,gxf5,Nxh3+,Kg2,Qh4,Ndf3,Nf4+,Bxf4,Qxf4,Rg1,exf5,Kf1,g6,Qd2', 'Bxe5,dxe5,Qxf3', 'https://lichess.org/training/7WdYD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7wEHn', 'Blitz', 'Take125', 1522, 'stlcardinals83', 1501, 'e4,e5,Nf3,d6,Bc4,Be7,d4,exd4,Nxd4,Nf6,Nc3,O-O,Bg5,c6,O-O,d5,exd5,cxd5,Bb3,Nc6,Bxf6,Bxf6,Nxc6,bxc6,Qd3,a5,a3,Ba6,Qf3,Bxf1,Rxf1,Bxc3,Qxc3,Qd6,Qd3,Rfe8,c4,Qe5,cxd5,cxd5,Bc2,g6,b3,Rac8,Bd1,Qb2,Bf3,Qxa3,Qxd5,Rc1,g3,Rxf1+,Kxf1,Qc1+,Kg2,Re1,Qxa5,Rg1+,Kh3,Qc8+,Bg4,Qc2,Qd8+,Kg7,Qd4+,Kg8,Qd8+,Kg7,Qd4+,Kh6,Qf4+,Kg7,Qe5+,Kg8,Qe8+,Kg7,Qe5+,f6', 'Qe7+,Kh6,Qf8+,Kg5,f4#', 'https://lichess.org/training/7wEHn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7whCD', 'Blitz', 'LFDSS', 1543, 'KarmaChess', 1630, 'g3,d5,e3,Bf5,Ne2,Be4,Rg1,Nc6,Bg2,Nb4,d3,Bxg2,Rxg2,e6,a3,Nc6,Nbc3,a6,b4,Nf6,Nf4,h6,Qf3,Bd6,e4,Nd4,Qd1,Bxf4,gxf4,Qd7,Rxg7,O-O-O,exd5,Nxd5,Nxd5,Qxd5,Be3,Nf5,Rxf7,Rhg8,Ke2,Nd4+,Bxd4,Qxd4,Rc1,Rg2,Qe1,Re8,c4,e5,Kf3,Qxd3+,Kxg2', 'Rg8+,Rg7,Rxg7+,Kh1,Qf3#', 'https://lichess.org/training/7whCD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7wiuW', 'Classical', 'ryuhw64', 1864, 'xima11', 1807, 'Nf3,c5,e4,d6,d3,Nc6,g3,Nf6,Bg2,g6,c3,Bg7,O-O,O-O,Re1,e5,Bg5,Bg4,Nbd2,h6,Be3,d5,Bxc5,dxe4,Bxf8,exf3,Bxf3,Bxf3,Qxf3,Qxf8,Nc4,Qc5,Re2,Rd8,Nd2,Qb5,Nb3,Rxd3,Re3,e4,Qe2,Rd5', 'c4,Qb6,cxd5', 'https://lichess.org/training/7wiuW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7wJX2', 'Blitz', 'Jabr0ni', 1541, 'GANDALF19771977', 1614, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nc6,Nc3,Nf6,d4,Bf5,a3,e6,f3,Bd6,g4,Bg6,g5,Nd7,Nh3,O-O,Bf4,Bxf4,Nxf4,Qxg5,Nce2,Nf6,h4,Qf5,Rg1,h6,c3,Na5,Bc2,Qxc2,Nxg6,Qxd1+,Rxd1,fxg6,Rxg6,Nc4,Nf4,Rae8,Ke2,Nxb2,Rdg1,Rf7,Rxh6,Kf8', 'Ng6+,Kg8,Rh8#', 'https://lichess.org/training/7wJX2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7wobx', 'Bullet', 'FM papa_lubercy', 2128, 'DrowningInTheSound', 2282, 'c4,Nf6,Nc3,e6,e4,d5,e5,Nfd7,cxd5,Nxe5,dxe6,Bxe6,d4,Ng6,d5,Bf5,Nf3,Bd6,Nd4,Bd7,Bd3,O-O,O-O,Qh4,Nf3,Qh5,Ne4,Be5,Nxe5,Qxe5,Nc3,Bf5,Re1,Qf6,Bf1,Nd7,Be3,Rfe8,Bd4,Qg5,Be3,Qf6,Qb3,Nb6,a4,c6,Bxb6,axb6,Qxb6,Qg5,Qxb7,cxd5,Rxe8+,Rxe8,Nxd5,h5,a5,Nh4,g3', 'Nf3+,Kh1,Be4', 'https://lichess.org/training/7wobx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7WpcU', 'Blitz', 'CcJBerserkTout', 2524, 'CM KNCP_719', 2510, 'e4,c6,Nf3,d5,Nc3,Bg4,h3,Bxf3,Qxf3,e6,d4,Nf6,Bd3,dxe4,Nxe4,Qxd4,Be3,Qe5,O-O-O,Nbd7,Bf4,Qa5,Kb1,O-O-O,Ng5,e5,Bd2,Bb4,c3,Be7,Nxf7,Rhf8,Nxd8,Bxd8,Bf5,Kb8,Bxd7,Nxd7,Qg3,Bf6,Bg5,Qc7,Bxf6,Nxf6,Rhe1,Re8,f3,a6,Re2,Nd5,Rde1,Nf4,Re4,Re7,Rd1,Qb6,Qg5,Qc7,g3,Nd5,Ka1,h6,Qd2,Qb6,Rde1,Rd7,Rxe5,Nf6,Qe3,Qc7,f4,Qd6,Qe2,Nd5,a3,Nb6,Re8+,Ka7,Qe3,c5,Re6,Qc7,Qe5,Qc8,Re8,Qc6,Re6,Qb5,f5', 'Nc4,Qe2,Rd2,Qxd2,Nxd2', 'https://lichess.org/training/7WpcU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7wRci', 'Rapid', 'SamDooley', 2013, 'Nandeko', 1953, 'Nf3,Nf6,g3,b6,Bg2,Bb7,O-O,d5,c4,d4,Nxd4,Bxg2,Kxg2,Qxd4,d3,g6,Nc3,Bg7,Bf4,Na6,Qa4+,Qd7,Qxa6,O-O,Qb7,Rfc8,Qf3,Ne8,Rac1,c6,b3,e5,Bd2,f5,e4,Nd6,Be3,Rf8,exf5,gxf5,Bg5,Rae8,Qd1,h6,Bd2,f4,Ne4,f3+,Kh1,Qh3,Rg1,Nxe4,dxe4,Rd8,Rc2,Rd3,Qf1,Qd7,Be3,Rd8,Rc1,Qg4,c5,b5,a4,a6,axb5,axb5,b4,Qxe4,Rb1,Qd5,Qh3', 'Rxe3,fxe3,f2+', 'https://lichess.org/training/7wRci');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7wrkZ', 'Blitz', 'georgemr_1', 1923, 'Trocanov', 1962, 'b3,Nf6,Bb2,e6,g3,Be7,Bg2,O-O,e3,d5,Ne2,c5,O-O,Nc6,d3,b5,a3,Qb6,Nd2,Rb8,Rb1,a5,c4,dxc4,bxc4,b4,a4,Bb7,Ne4,Rfd8,Nxf6+,Bxf6,Bxf6,gxf6,Nf4,Ne5,Bxb7,Qxb7,Qh5,Nf3+,Kg2,Nd2+,e4,Nxf1,Rxf1,b3,Qh6,Qe7', 'Nh5,Qf8,Nxf6+,Kh8,Qxh7#', 'https://lichess.org/training/7wrkZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Wwja', 'Rapid', 'KingCIown', 1616, 'mineAsf', 1616, 'd4,Nf6,c4,e6,Nf3,d5,g3,g6,Bg2,Bg7,O-O,b6,Bg5,Bb7,Nc3,O-O,cxd5,exd5,Ne5,c6,e4,Qd6,exd5,cxd5,Qb3,Nbd7,Nxd7,Qxd7,Bxf6,Bxf6,Bxd5,Bxd5,Nxd5,Bg7,Rfd1,Rad8,Nf4,Qg4,f3,Qg5,d5,Be5,Nh3,Qh6,f4,Qxh3,fxe5,Kg7,Qf3,Qd7,Qf6+,Kg8,Rac1,Qb5,d6,Qxb2,Rc7,Qe2,Rf1,Qe3+,Rf2,a5,Rxf7,Rxf7,Qxd8+', 'Kg7,Qf6+,Rxf6', 'https://lichess.org/training/7Wwja');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7wXE3', 'Blitz', 'Fichtelzwerg', 2127, 'feli100', 2139, 'd4,Nf6,Bf4,d5,e3,c5,Be2,Nc6,Nc3,Qb6,dxc5,Qxb2,Nb5,e5,Bg5,Kd8,Bxf6+,gxf6,Qxd5+,Bd7,Rd1,Nb8,Qxb7,Bxc5,Qxa8,Qxc2,Qxb8+,Ke7,Qxh8,Bxb5,Bxb5', 'Bb4+,Rd2,Qxd2+,Kf1,Qd1#', 'https://lichess.org/training/7wXE3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7X2Cp', 'Rapid', 'Andrei_MD', 2149, 'CristianRomao', 2232, 'e4,c5,b3,Nc6,Bb2,d6,Bc4,Nf6,Nc3,a6,a4,Rb8,Nd5,b5,Nxf6+,gxf6,axb5,axb5,Bd5,Ne5,f4,Bg4,Bxe5,Bxd1', 'Bc6+,Qd7,Bxd7+', 'https://lichess.org/training/7X2Cp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7XapK', 'Rapid', 'jjesnd', 1807, 'Giorgio986', 1747, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Qe7,Bg5,f6,Bh4,Nd4,c3,Nxf3+,Qxf3,d6,O-O,Be6,Nd2,O-O-O,Qd1,c6,d4,d5,Bxd5,cxd5,dxc5,Qxc5,Nb3,Qc4,Na5,Qxe4,Qb3,Rd7,Rfe1,Qxh4,Rac1,Qg4,h3,Qf5,c4,Rc7,cxd5,Rxc1,Qxb7+,Kd8,Rxc1,Bd7,Qc7+,Ke7,Nc6+,Kf7,g4,Qg5,Qxd7+,Kg6,d6,Qxc1+,Kh2,Qf4+,Kg2,Qe4+,f3,Qe2+,Kg3,Qe1+,Kg2,Qe2+,Kg3,Qe1+,Kg2,Nh6,Ne7+,Kg5,Nf5,Rb8', 'Qxg7+,Kf4,Qxh6#', 'https://lichess.org/training/7XapK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7xAVL', 'Classical', 'Sastharaja', 1854, 'AbhiG24', 1773, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,h6,fxe5,Nxe5,Nxe5,dxe5,O-O,Nf6,Nc3', 'Qd4+,Kh1,Qxc4', 'https://lichess.org/training/7xAVL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7xEKs', 'Blitz', 'taxi83', 1926, 'omrizouhaier78', 1936, 'e4,e6,d4,d5,exd5,exd5,c4,dxc4,Bxc4,Nf6,Nf3,Bd6,O-O,O-O,Bg5,Bg4,Nbd2,c6,Rc1,Nbd7,Re1,a6,Nf1,Qc7,h3,Bh5,Ng3,Bxg3,fxg3,Qxg3,Bxf6,Nxf6,Qb3,b5,Be2,Rac8,Ne5,Qxb3,axb3,Bxe2,Rxe2,Rfd8,Rd2,c5,d5,Ne4,Rd3,f6,Nc6,Rd6,Ne7+,Kf7,Nxc8,Rd8,Nb6,Ke7,d6+,Ke6,Re1,f5,Nd5,Rxd6,Nf4+,Ke5,Rxd6,Kxd6,Nh5,g5,Ng7,Ke5,g4,f4,Nf5,Kd5,Ne7+,Kd4,Nc6+,Kd3,Ne5+,Kd4,Nf3+,Kd3,Rxe4,Kxe4,Nxg5+,Ke3,Nxh7,f3,Kf1,Kd2,g5,Kc2,g6,Kxb3,g7,Kxb2,g8=Q,c4,Qd5,c3,Qd4,a5,Ke1,b4,Kd1,b3,Qf2+', 'c2+,Ke1,Kb1,Qxf3,c1=Q+', 'https://lichess.org/training/7xEKs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7XFu7', 'Rapid', 'KASICG', 1680, 'Emadm6', 1616, 'e4,e6,d4,d5,Nc3,Nf6,e5,Ng8,g3,c5,Nf3,c4,b3,cxb3,axb3,Ne7,Ba3,Qc7,Na4,Qa5+,Nd2,Nbc6,Nc5,Qc3,Na4,Qxd4,Bb2,Qb4,Bc3,Qxc3,Nxc3,Nf5,Nb5,Kd8,Nd6,Nxd6,exd6,Bxd6,Bg2,a6,O-O,Be5,Rc1,Ke7,c4,d4,Re1,Bf6,Ne4,Rd8,Nxf6,gxf6,f4,Nb4,Qd2,a5,f5,e5,Be4,Ra6,Ra1,b6,c5,bxc5,Rec1,Kd6,h3,Rd7,g4,Rd8,Rc4,Rg8,Kg2,Ra7,Rac1,Rc7,Qb2,Ba6,Rxb4,axb4,Qa1,Ra7,Bd3', 'Bb7+,Kg3,Rxa1', 'https://lichess.org/training/7XFu7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Xg6X', 'Rapid', 'kudzie12', 2254, 'Ticky268', 2208, 'd4,h6,Bf4,d5,e3,c5,c3,Nc6,Bd3,Nf6,Ne2,Qb6,b3,e6,O-O,Be7,Nd2,Nh5,g4,Nxf4,Nxf4,cxd4,exd4,Qc7,Qf3,O-O,Rae1,Bg5,Nh5,Bxd2,Re2,Bxc3,Bh7+,Kxh7,Qxc3,Qe7,f3,g6,Ng3,Qf6,Rd1,Bd7,a3,Rac8,Qe3,Rc7,Rc2,Rfc8,Rdc1,Qe7,h4,Qxh4,Kg2,Qg5,f4,Qxg4,Rh1,Nxd4,Rxc7,Rxc7,Qxd4,Rc2+,Kf1,Qf3+,Ke1,Qxg3+,Kd1,Qg2', 'Rxh6+,Kxh6,Qh8#', 'https://lichess.org/training/7Xg6X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7xM8B', 'Rapid', 'ianjl', 1711, 'asher06', 1698, 'Nf3,d5,g3,Nc6,Bg2,Nf6,O-O,e6,d4,e5,dxe5,Ne4,Nbd2,Nxd2,Qxd2,Bg4,b3,Bc5,h3,Bxf3,Bxf3,Nxe5,Bxd5,c6,Bf3,Qf6,Qf4', 'Nxf3+,exf3,Qxa1', 'https://lichess.org/training/7xM8B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7xQ2O', 'Blitz', 'Ruben1135', 1565, 'peonbalta', 1569, 'c4,d5,cxd5,Nf6,Nc3,Nxd5,Nf3,e6,g3,Bc5,Bg2,O-O,O-O,Nc6,d4,Bd6,e4,Nxc3,bxc3,b6,e5,Be7,Nd2,Bb7,Qg4,a5,f4,b5,Ne4,Nxd4,cxd4,Qxd4+,Nf2,Bxg2,Kxg2,Qxa1,Ba3,Qxa2,Bxe7,Rfe8,Bf6,g6,Qh4,Qd5+,Kg1,h5,Qg5,Kh7,Ng4,Qd4+,Kh1,Qe4+,Kg1,Qd4+,Rf2,Qd1+,Kg2,Qxg4,Qxg4,hxg4,h4,gxh3+,Kf3,a4,Rh2,Rh8', 'Rxh3+,Kg8,Rxh8#', 'https://lichess.org/training/7xQ2O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7XrSB', 'Blitz', 'janrobert', 1691, 'TRiQS', 1729, 'd4,Nf6,c4,e5,d5,Bc5,Nc3,O-O,Bg5,h6,Bh4,d6,e4,Nxe4,Bxd8,Bxf2+,Ke2,Bg4+,Nf3,Rxd8,Nxe4,Bb6,h3,Bf5,Ng3,Bh7,Qa4,Nd7,b4,Bd4,Rd1,Re8,Qxd7,a5,Nxd4,exd4+,Kd2,Re3,Nf5,Rc3,Bd3,axb4,Rhe1', 'Rxa2+,Bc2,Raxc2#', 'https://lichess.org/training/7XrSB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7xySZ', 'Classical', 'Marlov', 1810, 'get___out', 1812, 'a3,d5,d4,Bf5,Bf4,Nf6,e3,e6,Nc3,c5,Nb5,Na6,Nf3,c4,Be2,Qb6,a4,Nb4,O-O,Bxc2,Qd2,Rc8,Nc3,Bd6,Bxd6,Qxd6,Ne5,a6,f3,O-O,g4,Nd7,Nxd7,Qxd7,Nxd5,Nxd5,Qxc2,Nxe3,Qc3,Nxf1,Rxf1,Rfd8,Rd1,Qxa4,Qe3,Qc2,Rd2,Qc1+,Kf2,c3,bxc3,Rxc3,Qg5,Rxd4', 'Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/7xySZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Y0EC', 'Blitz', 'THE-KEJ', 1974, 'Aawlbt', 2051, 'e4,c5,Nf3,Nc6,c3,d5,exd5,Qxd5,Be2,Nf6,O-O,e5,c4,Qd8,d3,Be7,Nc3,O-O,a3,Bg4,Bg5,h6,Bxf6,Bxf6,Rb1,g6,h3,Bxf3,Bxf3,a6,Bxc6,bxc6,Ne4,Be7,Qf3,f5,Nc3,Qd7,Qe3,Kg7,Qxe5+,Bf6,Qxc5,Bd4,Qa5,Rfe8,Rfe1,Qa7,Rf1,Rab8,Qa4,Qb6,Qc2,Re7,b4,Rbe8,c5,Qc7,Na4,Re2,Qc4,Qf4,Qxa6,Bxf2+,Kh1,Qg3,Qxc6,Bd4,Qf3,Qc7,Nb6,R8e3,Qd5', 'Rxh3+,gxh3,Rh2#', 'https://lichess.org/training/7Y0EC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7y2aH', 'Rapid', 'myhsnom1230', 1920, 'Razboinik00', 1936, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,e5,dxe5,Bb4,Bd2,Nc6,Nf3,Bg4,Be2,O-O-O,O-O,Bxf3,Bxf3,Nxe5,Be2,f5,Qe1,Nf6,a3,Rxd2,axb4,Qxb4,Qxd2,Rd8,Qe3,Nc6,Rfd1,Rxd1+,Rxd1,Qxb2,Qe6+,Kb8,Nd5,a6,Nxf6,gxf6,h3,Qxc2,Rd7,Ne5,Rd8+,Ka7,Qd5,Qxe2', 'Qc5+,b6,Qxc7#', 'https://lichess.org/training/7y2aH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7YaMH', 'Blitz', 'vasilev_alexey', 1517, 'orjanriise', 1552, 'e4,c5,e5,e6,f4,Nc6,Nf3,a6,d4,cxd4,Nxd4,Nh6,f5,Nxf5,Nxf5,exf5,Bd3,d5,Bf4,g6,O-O,Bg7,Nd2,O-O,Nf3,Re8,Qe1,b5,a3,Bb7,Ng5,Bxe5,Qh4,Bxf4', 'Qxh7+,Kf8,Qxf7#', 'https://lichess.org/training/7YaMH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7YAtS', 'Rapid', 'serseri12', 1639, 'Lupy', 1701, 'd4,g6,c4,Bg7,e3,c6,Nf3,d5,Nc3,Nf6,Bd3,O-O,O-O,Bg4,h3,Bxf3,Qxf3,Re8,cxd5,cxd5,Bd2,Nc6,a3,Rc8,Rac1,e6,Ne2,Na5', 'Rxc8,Qxc8,Bxa5', 'https://lichess.org/training/7YAtS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7YcIE', 'Rapid', 'SPorf', 1793, 'Jagalabilowo', 1913, 'e4,e5,d4,exd4,c3,Nc6,Bc4,Bc5,Nf3,d6,b4,Bxb4,cxb4,Nxb4,Nxd4,Nf6,Nc3,O-O,Qb3,Nc6,Bg5,Ne5,O-O,h6,Be3,Nfg4,h3,Nxe3,fxe3,Qg5,Nd5,Bxh3,Nf4,Bd7,Nf3,Qg3,Nxe5,dxe5,Rf3,Qg5,Bxf7+,Rxf7,Nh3,Bxh3', 'Qxf7+,Kh7,Rxh3', 'https://lichess.org/training/7YcIE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7yd61', 'Rapid', 'laotzi', 2113, 'crissam', 2048, 'e4,d6,d4,Nf6,Nc3,Bd7,Nf3,e6,Bd3,Be7,e5,Nd5,O-O,Nxc3,bxc3,Nc6,Qe2,dxe5,dxe5,Bc5,Bg5,f6,exf6,gxf6,Bh6,Qe7,Rab1,Bb6,Nd4,Ne5,Be4,c6,f4,Ng6,Kh1,O-O-O,Bd3,Qd6,f5,Bxd4,cxd4,exf5,Ba6,Kb8,Bxb7,Bc8,Qa6,Kc7,Bxc8,Rxc8,Qxa7+,Kd8,Rb7,Rc7,Qb6,Kd7,Rxc7+,Qxc7,Qxc7+,Kxc7,Rxf5,Re8,Kg1,Re2,Rxf6,Rxc2,Rf7+,Kd6,Rxh7,Rxa2,Rg7,Nh4,Bf4+,Kd5,Rd7+,Ke4,Bg5', 'Rxg2+,Kf1,Rxg5', 'https://lichess.org/training/7yd61');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7yEuG', 'Classical', 'unchained66', 1647, 'UnG07', 1649, 'd4,d5,c4,Nf6,cxd5,Qxd5,Nc3,Qd8,Nf3,g6,e4,Bg4,Be3,Bg7,Be2,c5,d5,e6,dxe6,Qxd1+,Rxd1,Bxe6,Bxc5,Nbd7,Be3,O-O,O-O,Rfd8,Nd4,Nc5,Nxe6,Nxe6,Bf3,Nd7,Rd3,Ndc5,Rxd8+,Rxd8,Bxc5,Nxc5,Rc1,f5,exf5,gxf5,b3,Bxc3,Rxc3,Ne4,Rc1,Rd2,Bxe4,fxe4,Re1,Rxa2,g3,Rb2,Rxe4,Rxb3,f4,Rd3,f5,Rd7,f6,b5,Re7', 'Rxe7,fxe7,Kf7', 'https://lichess.org/training/7yEuG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7yGLf', 'Rapid', 'phe32', 2025, 'Sofia-2011', 2032, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,d6,d3,Be7,h3,Nf6,O-O,O-O,a3,Na5,Ba2,c5,Nc3,Be6,b4,cxb4,axb4,Qc7,Bxe6,fxe6,Bd2,Nc6,Ne2,d5,exd5,exd5,Bg5,Nxb4,c3,Nc6,Qb3,Qd6,Ng3,Nd7,Bxe7,Nxe7,Rfe1,Nc5,Qc2,Ng6,d4,Nd7,dxe5,Ndxe5,Nxe5,Nxe5,Nf5,Qf6,Nd4,Rac8,Qd2,Nc4,Qa2,a5,Nxb5,Rb8,Nd4', 'Rb2,Qxb2,Nxb2', 'https://lichess.org/training/7yGLf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7YGMc', 'Rapid', 'JoaoJ', 1601, 'scholarious', 1606, 'e4,d5,exd5,Nf6,Nc3,Bf5,d4,c6,dxc6,Nxc6,Bb5,e6,Nf3,Bd6,O-O,O-O,Bg5,Be7,Bxf6,Bxf6,Re1,Nxd4,Nxd4,Bxd4,Ne2,Bxb2,Rb1,Ba3,Bd3,Bxd3,cxd3,b6,Nc3,Qd7,Re3,Rfd8,Rb3,Bc5,Rg3,Qd4,Ne4,f5,Nxc5,Qxc5,h3,Rd6,Qd2,Qe5,Qg5,Rad8,Rb5,Qa1+,Kh2,g6,Qd2,a6,Rb4,a5,Rh4,Qe5,Qh6,R8d7,Qc1,Rxd3,f4,Qc3', 'Qxc3,Rxc3,Rxc3', 'https://lichess.org/training/7YGMc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7yGYo', 'Rapid', 'hemamedOussama', 2021, 'SergNSK', 2033, 'd4,d5,c4,e6,Nc3,c5,cxd5,cxd4,Qxd4,Nc6,Qc4,exd5,Qxd5,Be6,Qxd8+,Rxd8,Nf3,Nb4,Bd2,Nc2+,Kd1,Nxa1,Kc1,Nf6,Kb1,Nb3,axb3,Bxb3,e3,a6,Be2,Bb4,Bd1,Bxd1,Rxd1,O-O,Kc2,Rd7,Ne5,Rc7,Kb3,Bxc3,Bxc3,h6,Nc4,Rfc8,Nb6,Re8,Bxf6,gxf6,Nd5,Rc6,f3,Kg7,e4,Rd6,Kc4,Rc8+,Kb3,b5,h4,h5,g4,hxg4,fxg4,Re8,Rd4,a5,Kc3,b4+,Kb3,Kg6', 'Nf4+,Kh7,Rxd6', 'https://lichess.org/training/7yGYo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7yJCv', 'Classical', 'Ermolenko', 1611, 'yazan1245', 1807, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Ba4,Bb7,Nc3,Be7,d3,O-O,O-O,Nd5,Nce4,f5,Ne6,Qc8,Nxf8,fxe4,dxe4,Qxf8,exd5,cxd5,Re1,Qf6,a3,Bc5,Re2,Rf8,Be3,Bxe3,Rxe3', 'Qxf2+,Kh1,Qxe3', 'https://lichess.org/training/7yJCv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7YjvE', 'Rapid', 'Ramiro4', 1793, 'mehmetaltinel', 1745, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bc5,d3,O-O,Bg5,h6,Bh4,Na5,Qd2,Nxc4,dxc4,d6,O-O-O,Be6,h3,Bxc4,g4,b5,g5,Nh5,gxh6,Qd7,b3,Be6,hxg7,Nxg7,Rdg1,Bxh3,Bg5,Be6,Be3,f6,Nh4,Kf7,Nf5,Nxf5,exf5,Bxf5,Bxc5,dxc5,f3,Qc6,Ne4,Rad8,Qh6,Bxe4,Qg7+,Ke6,fxe4,Qxe4,Qxc7,Qe3+,Kb1,Rd7,Qc6+,Rd6,Qxb5,Rfd8,Qc4+,Rd5,Qg4+,Ke7,Rh7+,Kd6,Qg7,Kc6,Qc7+,Kb5,Qb7+,Ka5,Qxa7+,Kb4,Rb7+,Kc3,Qa5+,Kd4,Rd1+,Ke4,Qa4+,Kf5', 'Rf1+,Qf4,Rxf4+', 'https://lichess.org/training/7YjvE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7YlUC', 'Rapid', 'yobackoff', 1611, 'MahmoudEsmat', 1601, 'd4,d5,g3,c6,Bg2,e6,Bf4,f5,e3,Bd6,Be5,Bxe5,dxe5,Ne7,Ne2,Na6,c3,O-O,Nd2,Ng6,h4,Nxe5,h5,h6,Nf3,Nxf3+,Bxf3,e5,Qc2,e4,Bg2,c5,O-O-O,c4,Nd4,Nc5,Bh3,Qa5,b4,cxb3,axb3,Qa1+,Kd2,Qa5', 'b4,Qb6,bxc5', 'https://lichess.org/training/7YlUC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7YLwh', 'Blitz', 'glassbead', 1712, 'Zilez', 1722, 'f4,c5,Nf3,d6,e4,h6,Bc4,Nc6,O-O,e6,e5,dxe5,Nxe5,Nxe5,fxe5,Qd4+,Kh1,Qxc4,Qf3,f6,d3,Qd5,Qg3,Qxe5,Qg6+,Kd8,Bf4,Qxb2,Nd2,Ne7,Qe4,Qxc2,Rac1,f5,Qe5,Qxd3,Nc4,Qe4', 'Qc7+,Ke8,Nd6#', 'https://lichess.org/training/7YLwh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Ymjd', 'Rapid', 'shyakinac', 1843, 'StefanSins', 1776, 'g3,e5,Bg2,d5,d3,Nf6,c3,g6,Nf3,Nc6,O-O,Bg7,b3,O-O,Na3,Bg4,Nc2,Qd7,Nb4,Nxb4,cxb4,Rfe8,Bb2,e4,Ne5,Qf5,dxe4,dxe4,Nxg4,Qxg4,f3,exf3,Rxf3,Rad8,Qf1,Nh5,Bxg7,Nxg7,Rxf7,Qxb4,Rxc7', 'Qb6+,Qf2,Qxc7', 'https://lichess.org/training/7Ymjd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7ynwI', 'Rapid', 'GUNCHESS', 1701, 'megi21', 1975, 'c4,c5,g3,Nc6,Bg2,g6,Nc3,Bg7,Nf3,Nf6,O-O,d6,d4,cxd4,Nxd4,Bd7,Nxc6,bxc6,b3,O-O,Rb1,Rc8,Ne4,Qb6,Nxf6+,Bxf6,Bb2,e5,e4,Bg7,Qxd6,Rcd8,Qa3,Be6,c5,Qb7,Bc3,f5,f4,exf4,Bxg7,Kxg7,gxf4,fxe4,Bxe4,Bh3,Qa4,Bxf1,Rxf1,Rf6,a3,Rdf8,b4,Rxf4,Rxf4,Rxf4,Bxc6,Qe7,Qb3,Qg5+,Bg2,Rg4,Qc3+,Kh6,Qh3+,Rh4,Qc3,Qf4,h3,Qd4+,Qxd4,Rxd4,c6,Rc4,b5,Kg7,a4,Rxa4', 'c7,Rc4,Bc6', 'https://lichess.org/training/7ynwI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7yqQC', 'Classical', 'ZHEROM', 1930, 'Sergey_Boykov', 1863, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,Bc5,O-O,Qe7,Bg5,h6,Be3,O-O,Nc3,Nd4,Bc4,c6,a3,b5,Ba2,Bb6,Nd2,d6,Ne2,Bg4,Bxd4,Bxd4,c3,Bb6,h3,Bd7,Ng3,g6,Kh1,Nh7,a4,a6,Qe2,Qh4,Nf3,Qf4,Bb3,h5,Qd2,Qf6,Qh6,Bxh3,Nxh5,Bxg2+,Kxg2,gxh5,Qxh5,Kh8,Kh1,Qg6,Bxf7', 'Qxf7,Qxf7,Rxf7', 'https://lichess.org/training/7yqQC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7YSB0', 'Rapid', 'Rayzdesigns', 1779, 'sader27', 1743, 'e4,c6,Nf3,d5,exd5,cxd5,Nc3,Nf6,d4,Bg4,Bb5+,Nc6,Ba4,e6,O-O,Bb4,Be3,a6,Bb3,Rc8,Re1,Na5,Qd3,Nxb3,axb3,Bxc3,bxc3,Ne4,Bd2,Bxf3,gxf3,Nxd2,Qxd2,Qc7,Re3,O-O,Kh1,Qf4,Rg1,Rc7,Rg4,Qd6,Re5,Rfc8,Qh6,g6,Rh5,f5,Rxg6+,hxg6', 'Qh8+,Kf7,Rh7#', 'https://lichess.org/training/7YSB0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7yspC', 'Classical', 'teguedze', 1768, 'patrickcharrier', 1761, 'e4,d5,exd5,Nf6,c4,c6,d3,cxd5,cxd5,Nxd5,Nf3,Bg4,Be2,e6', 'Qa4+,Nc6,Qxg4', 'https://lichess.org/training/7yspC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7YtWM', 'Rapid', 'DmSaZel2020', 1849, 'VitoPeruzzi', 1702, 'e4,c5,Nf3,a6,Nc3,e6,d4,d6,dxc5,d5,exd5,exd5,Be3,Be6,Be2,Qa5,O-O,Bxc5,Bxc5,Qxc5,Re1,Nf6,Ng5,O-O,Nxe6,fxe6,Bf3,Nc6,Rxe6,Nd4,Re5,Nxf3+,Qxf3,Rad8,Rae1,b5,Qe3,Qxe3,R5xe3', 'd4,Re6,dxc3', 'https://lichess.org/training/7YtWM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Yun0', 'Blitz', 'IM FightingDragon', 2460, 'Phisero', 2351, 'e4,e5,f4,Nc6,Nf3,f5,exf5,e4,Ne5,Nf6,Nc3,d6,Nxc6,bxc6,g4,d5,d4,c5,Be3,c4,g5,Ng8,Qh5+,Ke7,Bh3,c6,Kd2,Kd6,b3,cxb3,axb3,Kc7,Qf7+,Bd7,Ra6,Qe7,Qxe7,Bxe7,Rha1,Kb7,Ne2,Bd8,Ng3,Ne7,c4,Rf8,cxd5,cxd5,Rd6,Kc8,Bf1,Bc7,Rda6,Kb7,R6a2,Nxf5,Ba6+,Kc6,Rc1+,Kd6,Bb7,Rab8,Ra6+', 'Bb6,Nxe4+,dxe4', 'https://lichess.org/training/7Yun0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7YZW3', 'Rapid', 'mathijshuis', 1763, 'jean34', 1792, 'd4,d5,c4,Bf5,cxd5,Qxd5,Nc3,Qd8,e4,Bg6,Nf3,e6,Qb3,b6,Bd3,Nc6,O-O,Bb4,a3,Bxc3,bxc3,Nge7,Bf4,O-O,Rfe1,Na5,Qc2,Rc8,e5,Bxd3,Qxd3,Qd5,Ng5,g6,Nf3,Nf5,Qd2,Nc4,Qc1,Ng7,Bh6,c5,Qg5,Qd8,Qf4,Re8,Bxg7,Kxg7,Ng5,Qd7,Qh4,h6,Ne4,Qe7,Nf6,Rf8,g4,cxd4', 'Nh5+,gxh5,Qxe7', 'https://lichess.org/training/7YZW3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Z62f', 'Rapid', 'orestecampestre', 1674, 'knightmare711', 2063, 'e4,c5,b3,d6,Bb2,a6,f4,Nd7,Nf3,Ngf6,d3,g6,e5,dxe5,fxe5,Nd5,e6,Qa5+,Nbd2,N7f6,exf7+,Kxf7,Qe2,Bg4', 'Ne5+,Ke8,Nxg4', 'https://lichess.org/training/7Z62f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7zB3C', 'Rapid', 'jlangy', 2085, 'ApplePie5453', 2083, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Ngf3,c5,c3,Nc6,Be2,cxd4,cxd4,f6,exf6,Nxf6,O-O,Bd6,Nb3,O-O,Bg5,Qc7,Rc1,Ne4,Be3,Qe7,Bd3,Nf6,Bg5,Bd7,Re1,Qf7,Qc2,Nb4,Qb1,Nxd3,Qxd3,Ne4,Qe3,b6,Nbd2,Nxg5,Qxg5,h6,Qe3,Qh5,Ne5,Bb5,Ndf3,Rae8,b3,Rc8,a4,Ba6,Nd7,Rfe8,Nfe5,Re7,Rxc8+,Bxc8,Rc1,Bxd7,Nxd7,Qxh2+,Kf1,Rxd7,Qxe6+,Kh7', 'Qf5+,g6,Qxd7+', 'https://lichess.org/training/7zB3C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7zB92', 'Blitz', 'Sakurei', 1722, 'mohammedkhater', 1683, 'd4,Nf6,c4,g6,Bg5,Bg7,Nf3,O-O,Nc3,d6,e4,Nbd7,Bd3,e5,dxe5,dxe5,O-O,h6,Bh4,g5,Bg3,Nh5,Qc2,Nxg3,fxg3,c6,Rad1,Qb6+,Kh1,Nc5,Be2,a5,h4,g4,Nh2,h5,Rd2,a4,Rfd1,Be6,b4,axb3,axb3,Ra3,Rd6,Rxb3,Rf1,Qa5,Nd1,Rxg3,Rxe6,Nxe6,Rf5,Nd4,Qc1,Nxe2,Qg5,Nf4,Rxf4,exf4,Qxa5,Re8,Qxh5,Rxe4,Nxg4,Re1+,Kh2,Rxd1,Qg5,Rd2', 'Nf6+,Kh8,Qh5+,Bh6,Qxh6#', 'https://lichess.org/training/7zB92');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7ZBAH', 'Rapid', 'how2checkmate', 1818, 'BigBlackGian', 1814, 'e4,c5,Nf3,Nc6,Bc4,e6,d4,cxd4,Nxd4,Nf6,Nc3,Bb4,Bg5,h6,Bxf6,Qxf6,Ne2,O-O,a3,Ba5,Qd6,Bxc3+,Nxc3,a6,O-O,Ne5,Be2,Qf4,g3', 'Nf3+,Bxf3,Qxd6', 'https://lichess.org/training/7ZBAH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Zdmd', 'Classical', 'BlackSilver1337', 1797, 'Fb5', 1679, 'c4,b5,cxb5,a6,e4,c6,bxc6,Nxc6,Nc3,Nf6,d4,e6,a3,Be7,Nf3,d5,e5,Nd7,Bd3,O-O,Ne2,Qb6,O-O,f5,exf6,Bxf6,Rb1,Rb8,Bg5,h6,Bf4,e5,Be3,e4,Bxe4,dxe4,d5,Qc7,dxc6,exf3,Qd5+,Kh8,Nf4,Ne5,Bc5,Rd8,Qe4,fxg2,Rfe1,Qxc6,Ng6+,Kg8,Qxe5,Bxe5', 'Ne7+,Kh7,Nxc6', 'https://lichess.org/training/7Zdmd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7zEa6', 'Rapid', 'armangoli', 1901, 'mmessias19', 1875, 'c3,g6,d4,Bg7,Bf4,d6,e3,Nd7,Nf3,Ngf6,Bd3,O-O,O-O,Nd5,Bg3,Qe8,Nbd2,e5,dxe5,dxe5,Rc1,N5f6,Bb1,e4,Ng5,Nc5,b4,Nd3,Bxd3,exd3,Ndf3,h6,Nh3,Bxh3,gxh3,Qd7,Ne5,Qxh3,Qxd3,Rad8,Qc2,Nh5,Nf3,Qg4,Nd4,Bxd4,exd4,Nf4,Qd1,Ne2+,Kg2,Rde8,Rc2,h5,f3,Nf4+,Kh1,Qg5,Bxf4,Qxf4,Rg2,Re3,Qc1,Rfe8,Qb1,Kg7,Qc2,f5,Rgf2,h4,d5,h3,c4,Re1,Qc3+,Qe5,Qxe5+,R8xe5,Kg1,R1e2,Rc1,Kf6,Kf1,Rxf2+,Kxf2,g5,Kg3,Re2,Ra1,Ke5,Kxh3,Kf4,Rd1,g4+,fxg4', 'fxg4+,Kh4,Rxh2#', 'https://lichess.org/training/7zEa6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7zfx1', 'Blitz', 'zeitnotakrobat', 2329, 'kleineme', 2072, 'c4,f5,g3,Nf6,Bg2,g6,Nf3,Bg7,Nc3,O-O,d3,d6,O-O,Nc6,Rb1,a5,a3,Nh5,Qc2,f4,b4,axb4,axb4,Bg4,Ne4,Bxf3,Bxf3,Nd4,Qd1,Nxf3+,exf3,Bd4,Kg2,Qd7,Bb2,Bxb2,Rxb2,e5,d4,exd4,Qxd4,Qg7,Qxg7+,Kxg7,Rd1,Ra3,g4,Nf6,Ng5,Re8,Nh3,Rc3,Rd4,Nd7,c5,Ne5,cxd6,cxd6,Rxd6,Nxf3,Rd7+,Kg8,Nxf4', 'Nh4+,Kf1,Rc1+,Rd1,Rxd1#', 'https://lichess.org/training/7zfx1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7zJKj', 'Rapid', 'Babola73', 2041, 'GBayraa', 2030, 'e4,g6,Nc3,Bg7,d4,d6,f3,Nf6,Bd3,O-O,Nge2,e5,Bg5,h6,Be3,c6,Qd2,Kh7,g4,Ng8,h4,b5,Ng3', 'exd4,Bxd4,Bxd4', 'https://lichess.org/training/7zJKj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7ZjXU', 'Rapid', 'nooryshoeep', 1606, 'mooomo', 1639, 'd4,d5,c4,dxc4,Nc3,Bf5,e4,Bg6,Bxc4,e6,a3,Nd7,Nf3,Qe7,Bg5,f6,Be3,O-O-O,O-O,e5,d5,a6,Qa4,Nb6,Bxb6,cxb6,Qb3,b5,Bd3,h5,Qc2,h4,Nxb5+,Kb8,Nc3,Rc8,b4,Bh5,Nd2,g5,Rac1,Qd7,Qb3,g4,a4,g3,fxg3,hxg3,h3,Ne7,a5,Bh6,Rc2,Bf4,b5,Qd6,Nc4,Qc5+,Kh1,Rc7,Na4,Qxb5,Rb2,Qxb3,Rxb3,Rhc8,Nab6,Rd8,Rfb1,Nc8,Rb4,Nd6,Nxd6,Rxd6,Bxa6,Bd2,R4b2,Bxa5,Nc4', 'Rxa6,Nxa5,Rxa5', 'https://lichess.org/training/7ZjXU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7ZK1s', 'Rapid', 'java66', 1970, 'Molata', 1937, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Be2,c6,O-O,Bd6,c3,O-O,Nbd2,Bg4,h3,Bh5,Re1,Nbd7,Nf1,Qc7,Ng3,Bg6,Nf1,Be4,Bd3,Rae8,Bg5,h6,Be3,Bxd3,Qxd3,Ne4,N1d2,f5,Nf1,Ndf6,Nh4,Nh5,Ng6,Rf6,Ne5,Bxe5,dxe5,Rfe6,Qe2,g6,Bxh6,Qxe5,Be3,Kg7', 'Bd4,Qxd4,cxd4', 'https://lichess.org/training/7ZK1s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7zl74', 'Rapid', 'Diego117', 1633, 'toja57', 1620, 'd4,d5,Nf3,e6,e4,Nc6,e5,g6,Bb5,Bd7,Bg5,Be7,Nc3,Bxg5,O-O,Bh6,Ne2,a6,Ba4,b5,Bb3,Nge7,c3,O-O,Bc2,Nf5,Qd3,Nh4,Nd2,Nf5,Qh3,Bg7,g4,Nfe7,f4,h6,Kh1,a5,a4,b4,c4,Rb8,c5,Qe8,b3,Bc8,Bd3,Ra8,Qh4,Ba6,Rf3,Bxd3,Rxd3,Qd8,Rh3,Nc8,g5,h5,Ng3,N8e7,Nxh5,Nf5', 'Nf6+,Qxf6,Qh7#', 'https://lichess.org/training/7zl74');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7ZMpn', 'Rapid', 'SGT_11', 1554, 'zaccvittorio', 1642, 'e4,e5,Nf3,Bc5,Nxe5,Bxf2+,Kxf2,Qh4+,g3,Qxe4,Nf3,Ne7,Qe2,Qb4,Qe5,Qb6+,Qe3,Qd6,d3,Nc6,Nc3,O-O,Bd2,Qf6,Re1,Nf5,Qe4,Ncd4,Rc1,d5,Nxd5,Qa6,Nxc7,Qxa2,Nxa8,Nxf3,Qxf3,Qxb2,Bg2,Nd4,Qd5,Nxc2,Qc4,Be6,Qxc2,Qf6+,Kg1,Rxa8,Qc3,Qd8,Qc7,Qxd3,Qxb7,Rd8,Bf4,Qd4+,Kf1,Bc4+,Ke1', 'Re8+,Be4,Rxe4+,Qxe4,Qxe4+', 'https://lichess.org/training/7ZMpn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7ZNkM', 'Classical', 'gelemk', 1703, 'Atilla665', 1658, 'e4,d6,d4,g6,Nf3,Bg4,h3,Be6,d5,Bd7,c4,Bg7,Qc2,Nf6,Bd3,O-O,Nc3,c6,O-O,cxd5,exd5,Na6,a3,Nc5,b4,Nxd3,Qxd3,Bf5,Qd2,a5,Bb2,axb4,axb4,Rc8,Qe2,Re8,Nd4,Bd7,Ndb5,Bxb5,Nxb5,Nh5,Bxg7,Kxg7,Qb2+,Kg8,Qd4,e5,dxe6,Rxe6,Ra7,Rb8,Rd1,Ng7,Nxd6,Qc7,Nb5,Qe7,c5,Nf5,Qd7', 'Re1+,Rxe1,Qxd7', 'https://lichess.org/training/7ZNkM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7zQ1P', 'Rapid', 'Machuca-RD', 1970, 'zontazon', 1882, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Ng4,h3,h5,d4,Nxd4,Nxd4,exd4,hxg4,hxg4,Qxg4,Rh4,Qf3,Bd6,g3,Rh3,Bb3,Qe7,Kg2,Rh8,c3,Be5,Bf4,d6,Bxe5,dxe5,cxd4,Bh3+,Kg1,Bxf1,Kxf1,O-O-O,d5,Qg5,Na3,Rh2,Qf5+', 'Qxf5,exf5,Rh1+,Kg2,Rxa1', 'https://lichess.org/training/7zQ1P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7zquM', 'Rapid', 'dzeki7', 1970, 'Lhyn', 1933, 'e4,c5,Nf3,d6,Bc4,Nc6,O-O,a6,a4,e6,d4,cxd4,Nxd4,Nge7,Nc3,g6,Bg5,Bg7,Nxc6,bxc6,Qd2,O-O,Rab1,Rb8,b3,d5,exd5,cxd5,Bd3,Qc7,Ne2,Nc6,Bf4,e5,Bg3,f5,c4,f4,Bh4,e4,cxd5,exd3,dxc6,dxe2,Qxe2,Qxc6,Rfc1,Qe6,Qd3,Qg4,Be7,Re8,f3,Qe6,Ba3,Qe3+,Qxe3,Rxe3,Bd6,Ra8,Bxf4,Re8,h3,Ra7,b4,Rb7,b5,axb5,axb5,Bd7,b6,Re6,Rc7,Bd4+,Kh2,Rexb6', 'Rxb7,Rxb7,Rxb7', 'https://lichess.org/training/7zquM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Ztba', 'Rapid', 'KH41RI75', 1909, 'BaconForLunch', 1916, 'd4,d5,c4,e5,Nc3,Bb4,e3,exd4,exd4,Qe7+,Be3,Nf6,Nf3,Ne4,Rc1,Bg4,Be2,Bxf3,Bxf3,Bxc3+,bxc3,c6,c5,O-O,O-O,Nd7,Bf4,Qh4,Bd6,Rfe8,Bxe4,Rxe4,f3,Re6,Bg3,Qg5,f4,Qf5,Qb3,Rb8,Rfe1,Nf6,Rxe6,Qxe6,Re1,Ne4,Qc2,Qg6,Rxe4', 'Qxe4,Qxe4,dxe4', 'https://lichess.org/training/7Ztba');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7ZTIZ', 'Blitz', 'PaulMendoza', 1812, 'victor16', 1837, 'e4,c6,d4,d5,e5,Bf5,Nc3,e6,g4,Bg6,Nge2,h5,g5,c5,Be3,Nc6,f4,Nge7,f5,Nxf5,Qd2,Nxe3,Qxe3,cxd4,Nxd4,Nxd4,Qxd4,Qxg5,Bb5+,Kd8,Nxd5,exd5,Qxd5+,Kc8,Qd7+,Kb8,Qe8+,Kc7,Qd7+,Kb6,Rd1,Qxe5+,Be2,Bb4+,c3,Bc5', 'Qb5+,Kc7,Rd7+,Kc8,Qxb7#', 'https://lichess.org/training/7ZTIZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7zY3v', 'Classical', 'Eardel', 1859, 'MagReuby', 1845, 'e4,c5,Nf3,e6,c3,d5,exd5,exd5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Ne7,Re1,g6,Qb3,Nb6,Qb5+,Qd7,Qxc5,Rc8,Qa3,a6,Qa5,Nc4,Qb4,a5,Qb3,Bg7,d4,O-O,Bg5,Nf5,Nbd2,b5,Nxc4,bxc4,Qc2,Rb8,Ne5,Bxe5,Rxe5', 'f6,Bxf6,Rxf6', 'https://lichess.org/training/7zY3v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7Zygv', 'Blitz', 'TheWuseligOne', 2251, 'QalaParan', 2030, 'e4,Nc6,Nf3,e5,Nc3,f5,d3,Nf6,Bg5,f4,d4,d6,dxe5,dxe5,Qxd8+,Kxd8,O-O-O+,Bd6,Nd5,Rf8,c4,b6,b4,Ke8,c5,bxc5,bxc5,Nxd5,exd5,Bxc5,dxc6,Bf5,Nxe5,Ba3+,Kd2,Be4,f3,Bd5,Bc4,Bxc4,Nxc4,Bb4+,Kc2,Rf5,Kb3,Rb8,Rhe1+,Kf8,Re5', 'Bd6+,Ka4,Bxe5,Nxe5,Rxe5', 'https://lichess.org/training/7Zygv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('7ZZSx', 'Rapid', 'jan1563', 1898, 'cschirags', 1871, 'g3,d5,Bg2,e5,d3,Nf6,Nd2,Nc6,e4,d4,a3,Be6,Ngf3,Bd6,O-O,O-O,c3,dxc3,bxc3,Qd7,Re1,Bh3,Bb2,Bxg2,Kxg2,Qg4,Qc2,h5,d4,g5,h3,Qd7,Nxg5,h4,g4,Nxg4,Qd1,Nh6,Qh5,Kg7,Qxh4,f5,exf5,Qxf5,dxe5,Nxe5,c4,Kg6,Ngf3', 'Nxf3,Nxf3,Qxf3+', 'https://lichess.org/training/7ZZSx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('801bx', 'Rapid', 'lobanasarvesh', 1817, 'proton555', 1891, 'e4,c5,c3,d6,d4,cxd4,cxd4,Nc6,Nf3,Nf6,Nc3,Bg4,Be2,g6,Be3,Bg7,O-O,O-O,h3,Bxf3,Bxf3,Re8,a3,d5,e5,Nd7,Bxd5,Nb6,Ba2,e6,Qd2,Rc8,Bh6,Nxd4,Bxg7', 'Nf3+,gxf3,Qxd2', 'https://lichess.org/training/801bx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('80BRa', 'Rapid', 'taverna135', 1796, 'Lizardplays', 1805, 'e4,e5,Nf3,Nc6,Bb5,d6,Nc3,Bd7,O-O,a6,Ba4,Nge7,d4,g6,Bg5,Bg7,Bxc6,Bxc6,dxe5,dxe5,Nd5,Bxd5,Bxe7,Kxe7,exd5,Re8,Re1,Kf8,Re4,f6,c4,Kg8,Qb3,b6,Rae1,Kh8,Qc2,Qd6,Nh4,Bh6,Rg4,Rg8,Nxg6+,Rxg6,Rxg6,hxg6,Qxg6,Bg7,Re3,Kg8,Rh3,Qd7,Rh7,Qf7', 'Rh8+,Kxh8,Qxf7', 'https://lichess.org/training/80BRa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('80ddI', 'Blitz', 'zagraj_1', 1518, 'Matysse', 1527, 'Nf3,Nc6,e3,e5,b3,Nf6,Bb2,e4,Nd4,Nxd4,Bxd4,d5,Nc3,Bb4,Na4,O-O,c4,Bd7,cxd5,Bxa4,bxa4,Qxd5,Qb3,Qxb3,axb3,Nd5,Bc4,Rad8,Bxd5,Rxd5,Bc3,Bxc3,dxc3,Rfd8,O-O,f5,Rfc1,g6,Kf1,Kf7,Ke2,Ke6,Rd1,Rxd1,Rxd1,Rxd1,Kxd1,Kd5,Kc2,c5,c4+,Kd6,Kc3,a5,f3,Ke5,f4+,Kf6,h3,g5,g3,gxf4,gxf4', 'Kg6,Kd2,Kh5,Ke1,Kh4', 'https://lichess.org/training/80ddI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('80Fnk', 'Rapid', 'aicho', 1922, 'amsamms', 2026, 'e4,c5,Bc4,d6,d3,Nc6,c3,Nf6,Nf3,g6,Ng5,Ne5,Bb3,Bg7,f4,Bg4,Qc2,Nc6,Nxf7,Qa5,Nxh8,Bxh8,h3,Nd4,Ba4+,Bd7,Bxd7+,Nxd7,Qd2,Ne6,Na3,b5,O-O,Qb6,Kh1,a5,f5,gxf5,Rxf5,O-O-O,Qh6,Nf6,Be3,Bg7,Qh4,b4,Nc4,Qa6,cxb4,axb4,a4,d5,exd5,Rxd5,Rxd5,Nxd5,Bxc5,Nxc5,Qg4+,Qe6,Qxg7,Nxd3,Rf1,Nf6,b3,Qe2,Qf8+,Kc7,Rf3,Ne1,Rg3', 'Qf1+,Kh2,Ng4+,hxg4,Qxf8', 'https://lichess.org/training/80Fnk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('80H0p', 'Rapid', 'HAD_Preetz', 2114, 'Zabotto', 1990, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Bg4,h3,h5,d3,Qf6,Nbd2,g5,c3,Bxf3,Qxf3,Qxf3,Nxf3,f6,d4,g4,Nh4,gxh3,g3,Ne7,dxe5,fxe5,Bg5,Rg8,Bf6,Bg7,Bxe7,Kxe7,Nf5+,Ke6,Kh2,Bf6,Kxh3,Rg5,f4,Rgg8,Rad1,Rad8,Nh6,Rxd1', 'f5+,Ke7,Nxg8+', 'https://lichess.org/training/80H0p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('80Itd', 'Rapid', 'Farjood-ch', 1810, 'vivekpandey89', 1809, 'e4,e5,Nf3,Nc6,Bc4,Nd4,O-O,Nxf3+,Qxf3,Qf6,Qb3,Bc5,Nc3,Ne7,d3,O-O,Be3,Bb6,Nb5,c6,Bxb6,axb6,Nc7,d5,exd5,cxd5,Nxa8,dxc4,Qxb6,Nc6,dxc4,Qg6,Qe3,Bf5,Nb6,Bxc2,a3,Be4,f3,Bd3,Rfd1,Bc2,Rd2,Nd4,Rc1,Rd8,Nd5,Kf8,Qxe5', 'Nxf3+,Kh1,Nxe5', 'https://lichess.org/training/80Itd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('80kFN', 'Blitz', 'FM SuttnaMike', 2354, 'GM ArkadijNaiditsch', 2740, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Qf3,g6,h3,Bg7,Be3,O-O,g4,Nc6,O-O-O,Nd7,g5,Nxd4,Bxd4,Bxd4,Rxd4,e5,Rxd6,Qxg5+,Kb1,Nc5,Bc4,Be6,Bxe6,fxe6,Qe2,Qh4,f3,b5,b4,Nb7,Rxe6,Nd8,Rxe5,Qf6,Rc5,Ne6,Rc6,Qf7,Qe3,Rac8,Rxc8,Rxc8,Nd5,h5,Rg1,Kh7,f4,Re8,Qf3,Nd4,Qd3,Nc6,a3,Rd8,Qe3,Ne7,Nxe7,Qxe7,Rg5,Qe6,f5', 'Rd1+,Kb2,Qe5+,Qc3,Rb1+,Kxb1,Qxc3', 'https://lichess.org/training/80kFN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('80NUj', 'Rapid', 'bhoom', 1771, 'OASIS1989', 1882, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,Qxf6,Nf3,Qd8,c3,Nc6,Bd3,b6,Bf4,Bb7,Qc2,Bd6,Be5,Bxe5,Nxe5,Nxe5,dxe5,Qd5,b3,Qxe5+,Be2,Bxg2,O-O-O,Qf4+,Kb2,Bxh1,Rxh1,O-O,Bd3,g6,h4,Rad8,h5,Rxd3,Qxd3,Qxf2+,Ka3,Qc5+,Kb2,Qf5,Qa6,Rd8,hxg6,Rd2+,Ka1,fxg6,Qc8+,Kg7,Qxc7+,Qf7', 'Rxh7+,Kxh7,Qxf7+', 'https://lichess.org/training/80NUj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('80rFs', 'Rapid', 'vbarsoum', 1859, 'sabeyler44', 1917, 'e4,c5,Nc3,d6,b3,Nf6,Bb2,g6,Qe2,Bg7,O-O-O,O-O,f3,Nc6,g4,h5,gxh5,Nxh5,Nh3,Bxh3,Bxh3,Nf4,Qf1,Nd4,Bg4,b5,Kb1,a5,Nd5,Nxd5,exd5,a4,h4,axb3,axb3,Qa5,h5,Nf5,c3,Qa2+,Kc1,Ng3,Qh3,Nxh1,hxg6,fxg6,Be6+,Rf7,Rxh1,Qxb3,Qh7+,Kf8,Qxg6,Rf6', 'Rh8+,Bxh8,Qg8#', 'https://lichess.org/training/80rFs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('80sDy', 'Rapid', 'chessTerminator11', 2037, 'Yigit18', 1751, 'e4,d5,exd5,c6,dxc6,Nxc6,Bb5,Bd7,Ne2,Qb6,a4,e6,Nbc3,Bd6,d3,Nge7,Be3,Qc7,Ne4,Be5,d4,Bxh2,g3,Bxg3,N4xg3,a6,Bd3,Nb4,Bxh7,g6,c3,Nbd5,Bd2,Nf6,Bxg6,Rxh1+,Nxh1,Nxg6,Qc2,O-O-O,Bg5,Qh2,Neg3', 'Qg1+,Kd2,Qxa1', 'https://lichess.org/training/80sDy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('815iI', 'Rapid', 'MaxWind', 2082, 'Zugzwang70', 2188, 'e4,c5,Nc3,Nc6,f4,d6,Nf3,Nf6,d3,g6,Be2,Bg7,O-O,O-O,h3,Rb8,a4,a6,g4,h5,e5,dxe5,fxe5,Nd5,Nxd5,Qxd5,gxh5,Bxh3,Rf2,gxh5,Ng5,Bg4', 'Bxg4,hxg4,Qxg4', 'https://lichess.org/training/815iI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('816EQ', 'Classical', 'PlotinusX', 1625, 'LINKNOT', 1651, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Nf6,Re1,Bc5,b3,Ng4,Rf1,Nf6,Re1,Ng4,Re2,O-O,Bb2,Re8,d4,exd4,Bxd4,Bd6,e5,Nxe5', 'Bxe5,Bxe5,Qxd8', 'https://lichess.org/training/816EQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('81A1k', 'Rapid', 'Clubmate99', 1900, 'Shark195', 2040, 'b3,d5,Bb2,Nf6,e3,Bf5,Nf3,c6,d4,Nbd7,Bd3,Ne4,Nfd2,Ndf6,Nc3,e6,Ndxe4,dxe4,Be2,Bb4,Qd2,Nd5,O-O-O,Qa5,Bc4,Bxc3,Qe2,Bxb2+,Kxb2,Nc3,Qd2,Qxa2+,Kxc3,b5', 'Ra1,Qxa1+,Rxa1', 'https://lichess.org/training/81A1k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('81B1m', 'Rapid', 'fulbluf', 1679, 'Yersinia_Pestis', 1665, 'd4,Nf6,c4,e6,Bg5,Be7,Nf3,O-O,Nc3,h6,Bf4,a6,e4,d6,Bd3,Nbd7,O-O,b6,e5,dxe5,dxe5,Ne8,Bc2,Bb7,Qd3,f5,exf6,Nexf6,Qg6,Qe8,Bxc7,Qxg6,Bxg6,Rac8,Bg3,Rxc4,Ne5,Nxe5,Bxe5,Rg4,f3,Rxg6,Rad1,Bc5+,Kh1,Nd5,Nxd5,Bxd5,a3,a5,h4,Rf5,Bc7,Kh7,b4,Rh5,bxc5,bxc5,Kg1,Rxh4,Rc1,c4,Bxa5,Rh3,Rc3,Rhg3,Rf2,e5,Bc7,R3g5,Rd2,Be6,Kh2,Rh5+,Kg1,Bh3,g4,Bxg4,fxg4,Rxg4+,Kf2', 'Rh2+,Kf3,Rf4+,Kg3,Rxd2', 'https://lichess.org/training/81B1m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('81baG', 'Rapid', 'KoshejGorynych', 1768, 'Ddg110', 1880, 'd4,d5,Nf3,Nf6,Nc3,c5,h3,e6,a3,cxd4,Qxd4,Nc6,Qd1,h6,Bf4,Bd6,Bxd6,Qxd6,e3,a6,Be2,O-O,O-O,Rd8,Nd4,e5,Nb3,Qe6,Nc5,Qe7,N3a4,Bf5,Nd3,Ne4,Nb6,Rab8,Na4,Ng5,Bg4,Bg6,Bh5,Rd6,Bg4,f5,Bh5,d4,Nac5,dxe3,fxe3,e4,Bxg6,Rxg6,Nf4,Rd6,Qh5,Rf8,Nb3,Ne5,Nd4,Nc4,Qe2,Nxb2,Rab1,Na4', 'Qc4+,Qf7,Qxa4', 'https://lichess.org/training/81baG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('81bmE', 'Blitz', 'IM Orsanchez', 2493, 'FM Jup78', 2426, 'e4,c6,d4,d5,f3,dxe4,fxe4,e5,Nf3,exd4,Bc4,Be6,Bxe6,fxe6,Qxd4,Qxd4,Nxd4,e5,Ne6,Ke7,Nc7,Na6,Nxa8,Nf6,Be3,Ke6,Nd2,Bd6,Nb6,axb6,Bxb6,Bb4,c3,Be7,O-O-O,Ng4,h3,Nf6,Kc2,Bc5,Bxc5,Nxc5,Rhe1,Ra8,a3,Nh5,Nb3,Nd7,Rd2,Nhf6,Red1,Ke7,Nc1,Ra4,Re2,Ke6,Rde1,Nc5,b4,Ncd7,Kb3,Ra8,Nd3,b5,Nc5+,Nxc5+,bxc5,Nd7,Rd2,Nxc5+,Kb2,Ra4,Rde2,Nd3+,Kb3,Nxe1,Rxe1,Ra7,Rd1,Rd7', 'Rxd7,Kxd7,Kb4', 'https://lichess.org/training/81bmE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('81FVd', 'Rapid', 'kns', 1674, 'DIMITRIS7', 1620, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Qe2,Qe7,d3,Nf6,Bg5,Qxe2+,Bxe2,Be7,Nc3,O-O,O-O-O,Re8,h4,h6,Bxf6,Bxf6,Ne4,Nd7,g4,d5,Nc3,Bxc3,bxc3,Rxe2,Nd4,Re8,g5,hxg5,hxg5,Nb6,Rh4,c5,Rdh1,f6,Nf3,Kf7,gxf6,gxf6,Rh7+,Ke6', 'Re1+,Kd6,Rxe8', 'https://lichess.org/training/81FVd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('81G9l', 'Blitz', 'Hlodowig_Q', 1839, 'Gwaleed65', 1839, 'e4,e5,Nf3,Nc6,d4,Nf6,d5,Ne7,Bd3,Ng6,c4,Bc5,O-O,d6,h3,Nf4,a3,a6,b4,Ba7,Nc3,Bd7,Re1,Qc8,Be3,Nxh3+,gxh3,Bxh3,Bxa7', 'Qg4+,Kh2,Qg2#', 'https://lichess.org/training/81G9l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('81ibs', 'Classical', 'JosueGz01', 1663, 'raev', 1944, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke6,Nc3,Ne7,Qg4+,Kd6,Ne4+,Kc6,Qe2,a6,Bb3,Nb6,Ba4+,Nxa4,Qc4+,Kd7,Qxa4+,b5,Qb3,Nc6,Qd5+,Bd6,Nc5+,Ke7,d4,Bxc5', 'Bg5+,Ke8,Bxd8', 'https://lichess.org/training/81ibs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('81UDf', 'Rapid', 'laudu', 1841, 'ash12345', 1777, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Bg5,Be7,Bd3,O-O,Qd2,d6,Qc1,d5,e5,Ne4,Bf4,Nc5,Be2,d4,O-O,d3,cxd3,Nxd3,Bxd3,Qxd3,Qxc6,Ba6,Nc3,Qf5,Bg3,Bxf1,Rxf1,Rac8,Nd5,Bg5,f4,Bd8,Qb7,c6,Ne3,Bb6,Bf2,Bxe3,Bxe3,Qe4,Qxa7,Ra8,Qc5,Rxa2,Re1,Rxb2', 'Qxf8+,Kxf8,Bc5+,Ke8,Rxe4,Rb1+,Kf2', 'https://lichess.org/training/81UDf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('81uWj', 'Blitz', 'hima_saber80', 2478, 'NM okmnstr', 2475, 'e4,g6,d4,Bg7,Nc3,c6,Be3,d5,f3,dxe4,fxe4,Nf6,Nf3,O-O,Qd2,Ng4,O-O-O,Nxe3,Qxe3,b5,h4,b4,Ne2,Qa5,Kb1,Be6,Nc1,h5,Ng5,Bg4,Be2,Bxe2,Qxe2,Nd7,g4,hxg4,Qxg4,Nf6,Qe2,Nh5,Rhg1,c5,dxc5,Qxc5,Nd3,Qd4,e5,Rac8,Nf3,Qc4,e6,Qxe6,Qxe6,fxe6,Nfe5,Nf4,Nxf4,Rxf4,Nxg6,Rf7,Rd7,Re8,Rxa7,Kh7,h5', 'Bd4,Re1,Bxa7', 'https://lichess.org/training/81uWj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('81VXM', 'Blitz', 'achja', 1998, 'SvetAist', 1610, 'e4,e5,d4,exd4,Nf3,c5,c3,dxc3,Bc4,cxb2,Bxb2,d6,O-O,a6,Qb3,Qc7,Nc3,b5,Nd5,Qa7,e5,bxc4,Qe3,Ne7,exd6,Be6,dxe7,Bxe7,Bxg7,Rg8,Nf6+,Bxf6,Bxf6,Nd7,Bh4,Rg6,Rfe1,Kf8,Rad1,Re8,Bg3,Nf6,Bd6+,Kg8,Bxc5,Qb7,g3,Bg4,Qxe8+,Nxe8,Rxe8+,Kg7,Bf8+,Kf6,Rd6+,Kf5,Nh4+,Kg5,Re5+,f5,Nxg6,hxg6,h4+,Kh5,Re7,Qb1+,Kh2,Bf3,Rh7+,Kg4,Rd4+,Be4,f3+,Kxf3,Rhd7,Qxa2+,Rd2,Qb1,Bc5,c3', 'Rf2+,Kg4,Rf4+,Kh5,Rh7#', 'https://lichess.org/training/81VXM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('81Z7D', 'Rapid', 'msh7', 1772, 'jthurman', 1762, 'e4,e5,Bc4,Nc6,d3,Bc5,h3,Nf6,Nf3,d5,exd5,Nxd5,Qe2,O-O,O-O,Re8,Ng5,Nf4,Bxf7+,Kf8,Qf3,Qxg5,Bxe8,Kxe8,Bxf4,exf4,Re1+,Ne5,Qd5,Bd6,d4,Bxh3,dxe5,Be7,Qg8+,Bf8,Qd5,Rd8,Qf3,Bg4,Qxb7,f3,Qc6+,Bd7,Qxf3,Bg4,Qg3,h5,f3,Rd4,fxg4,Rxg4,Qf3', 'Bc5+,Kf1,Rf4', 'https://lichess.org/training/81Z7D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('824RN', 'Classical', 'Eddy_2333', 2016, 'ElSimao', 2079, 'e4,c5,c3,Nf6,e5,Nd5,Nf3,Nc6,d4,e6,Bc4,Nb6,Bd3,cxd4,cxd4,Be7,Nc3,O-O,Qc2,g6,a3,d6,exd6,Qxd6,Be3,e5,Nb5,Qb8,dxe5,Nxe5,Nc7', 'Nxd3+,Qxd3,Qxc7', 'https://lichess.org/training/824RN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('828AN', 'Rapid', 'MEHMETNASIH', 1732, 'knightknightking', 1781, 'e4,g6,Nf3,Bg7,Bc4,d6,d3,Nc6,a3,Nf6,O-O,O-O,Re1,e5,Nbd2,Kh8,Nf1,Nh5,Be3,f5,exf5,Bxf5,Qd2,d5,Ba2,Nf6,Bh6,Qd6,Bxg7+,Kxg7,Ng3,Bg4,Nh4,Rae8,f3,Be6,c4,dxc4,Bxc4,Bxc4,Nhf5+,gxf5,Nxf5+,Kg6,Nxd6,Rd8,dxc4,Rxd6,Qc2+,Kg7,Rad1,Nd4,Qc1,Rfd8,Qg5+,Kf7,Kf2,e4,Rxe4,Nxe4+,fxe4,Rf6+,Kg1', 'Ne2+,Kh1,Rxd1#', 'https://lichess.org/training/828AN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('828wG', 'Blitz', 'FM Jyix', 2426, 'Poumpimdoumpoum', 2442, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,c3,Qc7,Ne2,Bg4,O-O,e6,Qe1,Nf6,f3,Bh5,Nf4,Bg6,Nxg6,hxg6,f4,Bd6,g3,O-O-O,Nd2,Rh5,Nf3,Rdh8,Bd2,Ng4,Qe2,g5,Nxg5,Rxh2,Qxg4,Rxd2,Be2,Kb8,Rad1,Rxb2,Rb1,Rxa2,Rb5,Ne7,Nxf7,Rf8,Qxe6,Ba3,Rfb1,b6,c4,Nc6,Ne5,Nxd4', 'Nd7+,Qxd7,Qxd7', 'https://lichess.org/training/828wG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('82fZn', 'Rapid', 'dile1234567', 1610, 'ajwnonolife', 1670, 'e4,e5,c4,Bc5,h3,c6,d3,Qb6,Qe2,Qa5+,Nc3,b5,cxb5,cxb5,Bd2,Nc6,a3,b4,Nd5,Nd4,Qh5,Bd6,Nxb4', 'Bxb4,Bxb4,Nc2+,Ke2,Nxb4', 'https://lichess.org/training/82fZn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('82JLi', 'Classical', 'FGordon', 1828, 'HermanJablonsky', 1731, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,h6,Bc4,Nf6,O-O,Nbd7,Re1,Ne5,Bb3,Be7,Nf5,Bf8,Nc3,Be6,Ba4+,c6,Nd4,Bc4,b3,Ba6,b4,Qb6,a3,O-O-O,Be3,c5,Nf3,Bc4,Rb1,Qc7,Nb5,Bxb5,Bxb5,a6,Ba4,Nxe4', 'Nxe5,dxe5,Qg4+', 'https://lichess.org/training/82JLi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('82sbA', 'Rapid', 'Sjeek', 1779, 'Volumstein', 1834, 'e4,b6,d4,Bb7,d5,e6,dxe6,fxe6,Nc3,Nf6,e5,Nd5,Nxd5,Bxd5,f4,Bc5,Nf3,O-O,Bd3,Bxf3,Qxf3,Nc6,c3,Nxe5,Qe4,Nxd3+,Qxd3,e5,Qd5+,Kh8,fxe5,Bf2+,Kd1,Qh4,Bd2,Qg4+,Kc2,c6,Qd3,Rae8,Raf1,Rxe5,Be3,Qa4+,Kb1,Ref5,Bxf2,Rxf2,Rxf2,Rxf2,Qxd7', 'Qc2+,Ka1,Qxb2#', 'https://lichess.org/training/82sbA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('82sey', 'Rapid', 'KidChessJohnA', 2289, 'zhanksalam2', 2119, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bb4+,c3,Ba5,Bc4,Nge7,O-O,O-O,Qh5,Nxd4,Qxa5,Ndc6,Qh5,Ng6,g3,Kh8,f4,f6,Nd2,d6,Nf3,Qd7,f5,Nge5,Nxe5,Nxe5,Bb3,b6,Rf4,Qe8', 'Qxh7+,Kxh7,Rh4+,Qh5,Rxh5#', 'https://lichess.org/training/82sey');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('82WJI', 'Blitz', 'bilbao', 2160, 'ferplus', 2256, 'd4,d5,c4,dxc4,a4,a6,e4,e5,Nf3,exd4,Bxc4,Nc6,O-O,Be6,Bxe6,fxe6,Ng5,Qd7,e5,Be7,Re1,g6,Na3,h6,Nf3,O-O-O,Qd3,Bxa3,Rxa3,Nge7,Bd2,Rhf8,b4,Nb8,b5,Nf5,Rb3,Qd5,Rc1,Kd7,bxa6,Nxa6,Rb5,Qa2,Rxb7,Qxa4,g4,Ne7,Qxa6,Qxa6', 'Rcxc7+,Ke8,Rxe7#', 'https://lichess.org/training/82WJI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('82xLN', 'Classical', 'Alexryh', 1716, 'Rahulnsk', 1710, 'd4,d5,c4,dxc4,e3,Nc6,Nc3,e6,a3,Nf6,Nf3,a6,Bxc4,g6,Bd3,Bg7,Bd2,O-O,Qc2,Ne7,e4,c6,h3,b5,b4,Bb7,e5,Nfd5,Nxd5,Nxd5,g4,Rc8,h4,Qb6,h5,Ne7,hxg6,fxg6,Bg5,Rxf3,Bxe7,Qxd4,O-O-O,Qa1+,Kd2,Rxf2+,Be2,Qd4+,Ke1,Qf4,Qd3,Rh2,Rf1,Qxe5', 'Qd8+,Rxd8,Rxd8+,Bf8,Rdxf8+', 'https://lichess.org/training/82xLN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('82YAf', 'Rapid', 'G____Rahul', 1640, 'darkknight555', 1800, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Nc3,g6,Bb5,a6,Bd3,Bg7,Be3,Nf6,O-O,O-O,h3,Bf5,Bxf5,gxf5,a3,Ne4,Nxe4,fxe4,Nd2,e5,Qg4,exd4,Bh6,Qf6,Bxg7,Qxg7,Qxg7+,Kxg7,Rfd1,Ne5,Nf1,f5,Rxd4,Rac8,Rxd5,Nc4,Rd7+,Rf7,Rxf7+,Kxf7,b3,Nb2,Ne3,f4,Nd5,Rxc2,Nxf4,Nd3,Nxd3,exd3,Kf1,d2,Ke2', 'Rc1,Kxd2,Rxa1', 'https://lichess.org/training/82YAf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('82ZbC', 'Classical', 'ilnur_valeev', 2179, 'alexdani7000', 1839, 'e4,e5,Nf3,Nf6,Nc3,Bb4,d3,Nc6,a3,Be7,g3,d6,Bg2,Bg4,h3,Bxf3,Bxf3,Nd4,Bg2,O-O,Ne2,Nxe2,Qxe2,d5,exd5,Nxd5,O-O,f6,d4,exd4,Qc4,c6,Rd1,b5,Qxc6,Nc7,Bf4,Rc8,Bxc7,Rxc7,Qxb5,Rxc2', 'Qb3+,Kh8,Qxc2', 'https://lichess.org/training/82ZbC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('831lv', 'Blitz', 'Colin20', 2379, 'GM Nurlan_Ibrayev', 2562, 'e4,d5,exd5,Nf6,d4,Bg4,Bb5+,Nbd7,Be2,Bxe2,Qxe2,Nxd5,Nf3,c6,O-O,Qc7,c4,Nf4,Qe4,Ng6,Nc3,Nf6,Qc2,e6,Re1,Bd6,Bg5,Be7,g3,h6,Bd2,O-O,Rxe6,fxe6,Qxg6,Bb4,Ne5,Rad8,Bxh6,Rxd4,Bf4,Bd6,Re1,a6,Kg2,b5,c5,Bxc5,Nd3,Bd6,Nc5,Bxf4,Nxe6,Qe7,Nxd4,Qxe1,Nf5,Ne8,gxf4,Qd2,Nh6+,Kh8,Nf7+,Kg8,Ng5,Nf6,Ne6,Rf7,Ng5,Re7,Nce4,Qxf4', 'Nxf6+,Qxf6,Qh7+,Kf8,Qh8#', 'https://lichess.org/training/831lv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('836E4', 'Rapid', 'DeAmar', 1842, 'ProboscisMonkeyFan47', 1828, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Bc5,e3,Nc6,Bd2,Qe7,Bc3,Ngxe5,Nxe5,Nxe5,Be2,O-O,Nd2,d6,a3,a5,O-O,Bf5,b4,axb4,axb4,Rxa1', 'Qxa1,Bxe3,fxe3', 'https://lichess.org/training/836E4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('83ax6', 'Rapid', 'carlosgardel', 1880, 'WhtevrFloatsYourBoat', 2010, 'd4,d5,Bf4,Bf5,Nf3,e6,e3,Nf6,Nbd2,Bd6,Bxd6,Qxd6,c4,dxc4,Bxc4,O-O,Nh4,Bg6,Nxg6,hxg6,O-O,Nc6,Rb1,a6,a3,b5,Be2,e5,dxe5,Nxe5,Bf3,Rad8,Ne4,Nxe4,Bxe4,Nc4,Qe2,Qd2,Qf3,Nxb2,Rbc1,Nc4,Bb7,Qd6,Rfd1,Qb6,Bd5,Kh8,Qh3+,Kg8,Qg3,Nd6,Qxg6,c6,Rxc6', 'Qxc6,Bxc6,fxg6', 'https://lichess.org/training/83ax6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('83BKD', 'Rapid', 'kassem74', 2001, 'Zhora_89', 1745, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Nf6,c3,Nxe4,Re1,Ng5,Nxe5,Nxe5,Rxe5+,Ne6,d4,d6,Re1,d5,Bb3,b6,c4,Bb7,Nc3,Bb4,Qg4,g5,Bd2,dxc4,Rxe6+,fxe6,Qxe6+,Be7,Bxc4,Qxd4,Re1,Qd6,Bb5+,Kd8,Qf5,Rf8', 'Qxf8+,Bxf8,Re8#', 'https://lichess.org/training/83BKD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('83FsB', 'Rapid', 'jr1', 1769, 'hemmati33', 1834, 'e4,e5,Bc4,Nf6,d3,Bc5,Ne2,O-O,O-O,d5,exd5,Nxd5,h3,a6,a4,Nc6,Kh1,Be6,f4,exf4,Nxf4,Nxf4,Rxf4,Bxc4,Rxc4,Bb6,c3,Ne5,Re4,Nxd3,Kh2,Qd6+,Bf4,Nxf4,Qxd6,cxd6,Rxf4,d5,Rb4,Bc5,Rxb7,Rab8,Rd7,Rfd8,Rxd8+,Rxd8,b4,Be3,Ra2,d4,cxd4,Rxd4,b5,axb5,axb5,g6,Rb2,Rd6,Nc3,Bd4,Rb3,Rb6,Nd5,Rd6,Ne7+,Kg7,Nc6,Bb6,h4,Bc7,g3,Rd2+,Kh3,Bb6,Ne5,f5', 'Nc4,Rd4,Nxb6', 'https://lichess.org/training/83FsB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('83I0d', 'Blitz', 'nova_nova', 1707, 'NatesanSir', 1790, 'e4,e5,Nf3,d6,Bc4,Bg4,h3,Bxf3,Qxf3,Qf6,Qxf6,Nxf6,Nc3,Nbd7,Nd5,Nxd5,Bxd5,c6,Bb3,Nc5,d3,Nxb3,axb3,Be7,h4,O-O,g4,b5,f4,exf4,Bxf4,a5,g5,a4,bxa4,Ra7,h5,Rfa8,Kd2,Rxa4,Rxa4,Rxa4,g6,fxg6,hxg6,hxg6,b3,Ra3,Re1,Kf7,e5,dxe5,Bxe5,Bb4+,Bc3,Be7', 'Rxe7+,Kxe7,Bb4+,Ke6,Bxa3', 'https://lichess.org/training/83I0d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('83mBO', 'Rapid', 'I-O-N', 1879, 'damir_astra87', 1853, 'e4,e5,Nf3,d6,d4,Bg4,dxe5,Bxf3,Qxf3,dxe5,Bc4,Nf6,Nc3,Bb4,Bd2,O-O,O-O-O,c6,a3,Ba5,h3,b5,Ba2,b4,axb4,Bxb4,g4,a5,h4,a4,g5,Ne8,h5,Kh8,Qg3,Qd6,g6,f5,exf5,Rxf5,gxh7,Kxh7,Rdg1,Ra7,Qg6+,Qxg6', 'hxg6#', 'https://lichess.org/training/83mBO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('83tjt', 'Blitz', 'fortpawer', 2296, 'ghadanfar', 2356, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Qd2,Nc6,O-O-O,d5,Nxc6,bxc6,Bc4,Rb8,Bb3,Be6,h4,a5,Na4,dxe4,Qxd8,Rfxd8,Bxe6,Rxd1+,Rxd1,fxe6,Bd4,exf3,gxf3,Nd5,Bxg7,Kxg7,Nc5,Kf6,Re1,Rb4,Rxe6+,Kf7,Rxc6,Rxh4,Ne4,Rf4,Rc5,Nf6,Ng5+,Ke8,Rxa5,h6,Ra8+,Kd7,Nf7,Ng4,fxg4,Rxf7,a4,Rf4,a5,Rxg4,b3,h5,a6,Kc7,Re8,Kb6,Rxe7,Kxa6,c4,h4,Re6+,Ka5,Kc2,h3,Kc3,h2', 'b4+,Ka4,Ra6#', 'https://lichess.org/training/83tjt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('83tsI', 'Rapid', 'Ansukam', 2072, 'Dymytry', 2134, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,a6,Na3,b5,Nd5,Nf6,Bg5,Be7,Nxe7,Nxe7,Bd3,d5,exd5,Qxd5,O-O,Bb7,f3,Rd8,Qe2,Qd4+,Qe3,Qxb2,Rab1,Qxa3', 'Bxb5+,axb5,Qxa3', 'https://lichess.org/training/83tsI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('840hW', 'Rapid', 'Abdihas', 1863, 'ChinmayKarnik', 1850, 'e4,e5,f4,exf4,Nf3,Nc6,Bc4,Bc5,d4,Bb6,Bxf4,Nf6,O-O,d6,c3,Bg4,Qc2,O-O,Nbd2,Qe7,Kh1,Rfe8,e5,dxe5,dxe5,Nh5,Ng5,g6,Bxf7+,Kg7,Bxe8,Rxe8,Nge4,Nxe5,Bxe5+,Qxe5,Qb3,Be6,Qd1,Bd5,Qf3', 'Bxe4,Qxe4,Qxe4,Nxe4,Rxe4', 'https://lichess.org/training/840hW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('84bQm', 'Rapid', 'Ivan_iz_Kurulki', 1754, 'OvvcaPRO', 1720, 'b4,d5,a3,e5,Bb2,d4,c3,dxc3,Bxc3,f6,e3,a6,b5,axb5,Bxb5+,c6,Bc4,Ne7,h3,Bf5,Nf3,b5,Bb3,Nd7,O-O,Nc5,Ba2,Bxb1,Bxb1,Nd5,Bb4,Bd6,Bxc5,Bxc5,Qc1,Qd6,d4,Bxa3,Qd2,e4,Bxe4,O-O,Bxd5+,cxd5,Nh4,g6,f4,f5,Nf3,Bb4,Qc2,Rac8,Qb3,Rc3,Qa2,Rxe3,Qa7,Bc3,Ra6,Qb8,Qd7,Rd8,Qc6,b4,Ne5,Bxd4,Qe6+,Kg7,Qf7+,Kh6', 'Rxg6+,hxg6,Qxg6#', 'https://lichess.org/training/84bQm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('84EEm', 'Rapid', 'jmtolosa', 1653, 'ChesapeakReaper', 1705, 'e4,e5,Nf3,Qf6,d3,h6,Nc3,c6,d4,exd4,Nxd4,Bc5,Be3,Ne7,Bc4,b5,Bxb5,cxb5,Ndxb5,Bxe3,fxe3,Na6,Nd5,Nxd5,Qxd5,Rb8,Nd6+,Ke7,Rf1,Qxd6', 'Rxf7+,Ke8,Qxd6', 'https://lichess.org/training/84EEm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('84gly', 'Rapid', 'xo89', 1950, 'gkonig', 1959, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,a6,Bxc6,dxc6,Nxe5,Qd4,Nf3,Qb6,Nc3,Bg4,h3,h5,e5,Nd7,hxg4,hxg4,Ng5,Nxe5,Re1,g3,Rxe5+,Be7,d4,O-O-O,Be3,c5,Nxf7,cxd4,Rxe7,dxe3,Nxd8,exf2+,Kf1,Rh1+,Ke2,Rxd1,Rxd1,Qf6,Rf7,Qe5+,Kf1,Qh5,Rf8,Qh1+,Ke2,Qh5+,Kd3,Qg6+,Kd2', 'Qd6+,Ke2,Qxf8', 'https://lichess.org/training/84gly');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('84moY', 'Rapid', 'Jgarrido', 2095, 'TheOnlyChessCheetah', 2094, 'd4,d5,c4,e6,Nc3,c6,e3,Nf6,Bd3,Bb4,Nf3,dxc4,Bxc4,Ne4,Qc2,Nxc3,bxc3,Bd6,O-O,O-O,e4,a5,Be3,b5,Bd3,h6,Rfb1,Qc7,g3,b4,cxb4,axb4,Nd2,Ba6,Bxa6,Nxa6,Nc4,Rfc8,Bd2,Rab8,a3,bxa3,Nxa3,Rxb1+,Qxb1,Rb8,Qc2,f6,Qc4,Qc8,Be3,Bxa3,Rxa3,Rb1+,Kg2,Nb8,Rc3,Kh8,Bf4,Qd7,d5,cxd5,Qc8+,Kh7,Bxb8,Qa4,exd5,Qe4+,Rf3,Qe1,Qxe6', 'Qf1#', 'https://lichess.org/training/84moY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('84mQO', 'Rapid', 'abdulkadirfb', 1966, 'inoxy123', 1846, 'd4,d5,Nf3,Nc6,c3,Nf6,g3,Bf5,Bg2,e6,Bg5,Be7,Bxf6,Bxf6,O-O,h6,Re1,O-O,Nbd2,Be7,e4,dxe4,Nxe4,Re8,Ned2,a6,Qb3,b5,a3,Na5,Qd1,Rc8,Ne5,f6,Nc6,Nxc6,Bxc6,Rf8,Be4,Bxe4,Rxe4,Qd5,Qe2,Kf7,Re1,Rfe8,Rxe6,Qd7,Re3,Bd6,Rxe8,Rxe8,Qd1,Rxe1+,Qxe1,c5,dxc5,Bxc5,Qe2,a5,Nb3,Bb6,Nd2,Kf8,Nf3,g5,Nd2,Kg7,Ne4,Qd5,Kf1', 'f5,f3,fxe4', 'https://lichess.org/training/84mQO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('84RQQ', 'Rapid', 'priyank3112', 1616, 'shivayanola', 1623, 'e4,c5,Bc4,Nc6,Nf3,Nf6,d3,e6,c3,a6,h3,b5,Bb3,b4,Bd2,a5,cxb4,axb4,Bg5,h6,Bxf6,Qxf6,O-O,Qxb2,Nbd2,Qf6,Nc4,Nd4,Nb6,Ra6,Na4,Be7,Rc1,d6,Nxd4,Qxd4,Rc4,Qe5,d4,Qg5,dxc5,dxc5,Nxc5,Rc6,Ba4,O-O,Bxc6,Bxc5,Qc2,Ba7,Rxb4,e5,Ra4,Bxh3,g3,Bxf1,Kxf1,Bd4,Ra8,Rxa8,Bxa8,Qf6,a4', 'Qa6+,Kg1,Qxa8', 'https://lichess.org/training/84RQQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('84SMs', 'Rapid', 'coskunm', 2049, 'emiliano0851', 1914, 'e4,b6,d4,Bb7,Nc3,e6,Nf3,Bb4,Bd3,Ne7,O-O,d5,e5,O-O,Ne2,Nc8,Bg5,Qd7,c3,Be7,Qd2,h6,Bxe7,Nxe7,Nf4,Ba6,Nh4,g5,Nfg6,Bxd3,Nxe7+,Qxe7,Qxd3,gxh4,f4,f5,exf6,Rxf6,Rae1,Rf5', 'Qxf5,exf5,Rxe7', 'https://lichess.org/training/84SMs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('84vCb', 'Blitz', 'Ina_2009', 2305, 'DrFrankenshtein', 2216, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Qb6,Nb3,Nc6,Be3,Qc7,a3,Nf6,Nc3,Be7,f4,d6,Be2,O-O,Bf3,a6,g4,b5,g5,Nd7,h4,Bb7,h5,b4,axb4,Nxb4,g6,Bf6,Qd2,Rac8,Bd4,e5,Bf2,exf4,Nd4,Ne5,Bd1,Nc4,Qxf4,Nxb2,Nce2,Rfe8,Ng3,Nxd1,Rxd1,Nxc2+,Nxc2,Qxc2,O-O,fxg6,hxg6,hxg6,Qxd6,Be5,Qxg6,Bf6,Nh5,Be5,Rd7,Bxe4', 'Rxg7+,Bxg7,Qxg7#', 'https://lichess.org/training/84vCb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('84VKY', 'Blitz', 'PukarStha321', 1603, 'tfjgeorge', 1619, 'e4,Nc6,Nf3,e5,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke6,Nc3,Nb4,a3,Nxc2+,Kd1,Nxa1,Nxd5,Kd6,Nb6,axb6,Qd5+,Ke7,Qf7+,Kd6', 'Qd5+,Ke7,Qxe5+,Be6,Qxe6#', 'https://lichess.org/training/84VKY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('84yxW', 'Blitz', 'Racer2300', 2083, 'prambanan70', 2111, 'e4,c5,Nf3,g6,c3,Bg7,d4,cxd4,cxd4,d5,e5,a6,h3,Bf5,Nc3,e6,Bd3,Bxd3,Qxd3,Ne7,O-O,Nbc6,a3,O-O,h4,Nf5,h5,Qb6,h6,Bh8,Na4,Qa7,Nc5,Nfxd4,Nd7,Nxf3+,Qxf3,Rfd8,Nf6+,Kf8,Nxh7+,Kg8,Nf6+,Kf8,h7,Nxe5,Bh6+,Ke7,Ng8+,Rxg8,hxg8=N+,Rxg8,Qg3,Bf6,Bg5,Bxg5,Qxg5+,f6,Qe3,Qb8,Rac1,Rh8,f4,Ng4,Qb6', 'Rh1+,Kxh1,Qh8+,Kg1,Qh2#', 'https://lichess.org/training/84yxW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8576R', 'Blitz', 'Talion90', 1811, 'emili08', 1753, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,c3,dxc3,Bxf7+,Kf8,Bxg8,Rxg8,Nxc3,Bb4,O-O,Bxc3,bxc3,d6,Re1,Bg4,h3,Bh5,Qd3,Bxf3,Qxf3+,Qf6,Qd3,Ne5,Qd5,c6,Qb3,b5,Bb2,Nd3,Re3,Qxf2+,Kh2,Qxe3,c4,Qf4+,Kh1,Nxb2,Qxb2,Ke7,cxb5,cxb5,Qxb5,Rgb8,Qa6,Rb6,Qc4,Kd7,Rf1,Qxf1+,Qxf1,Ke7,Qf3,Rab8,Kh2,Rb2,a3,R8b3,Qg4,g6,Qg5+,Kd7,Qd5,Rxa3,Qf7+,Kc6,Qxh7,Raa2,Qxg6', 'Rxg2+,Qxg2,Rxg2+,Kxg2,a5', 'https://lichess.org/training/8576R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('85b3b', 'Rapid', 'BARON68', 1991, 'MadKakashi', 1903, 'd4,Nf6,c4,e6,Nc3,Bb4,Qb3,Bxc3+,Qxc3,O-O,Bg5,d5,Qf3,Nbd7,cxd5,exd5,e3,h6,Bh4,b6,Bb5,Qe8,Bxf6,gxf6,Bc6,Rb8,Bxd7,Qxd7,Qxf6,Ba6,Qxh6,Qg4,g3,Qe4,Qg5+,Kh8,Qh5+,Kg8,Qf3,Qc2,Nh3,Qxb2,Qd1', 'Qc3+,Qd2,Qxa1+', 'https://lichess.org/training/85b3b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('85cYz', 'Blitz', 'ma1983', 2336, 'IM maestro_coach', 2379, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Nf6,Nxf6+,exf6,c3,Bd6,Bd3,O-O,Qc2,h6,Ne2,Re8,Be3,Nd7,Qd2,Nf8,O-O,Qc7,Bf4', 'Rxe2,Qxe2,Bxf4', 'https://lichess.org/training/85cYz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('85d7d', 'Blitz', 'ba7gar', 1955, 'schwabenblitz', 1947, 'd4,d5,c4,e6,Bf4,Nf6,Nd2,Bb4,Nf3,O-O,c5,b6,a3,Bxd2+,Nxd2,bxc5,dxc5,Na6,b4,c6,Bd6,Re8,e4,Nc7,Bd3,Nb5,Bxb5,cxb5,e5,Nd7,O-O,a6,Nb3,f6,f4,fxe5,fxe5,Qh4,Na5,Nf8,Nc6,Bd7,Nd4,Ng6,c6,Bc8,Kh1,Nf4,g3,Qh6,Rxf4,a5,Qf3,Ba6,Nxe6,Qxe6,Rf1,axb4,Rf8+,Rxf8', 'Qxf8+,Rxf8,Rxf8#', 'https://lichess.org/training/85d7d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('85gs1', 'Rapid', 'mazepan', 1778, 'CVJM', 1675, 'e4,c5,f4,Nc6,Nf3,e6,Be2,d5,e5,Nge7,O-O,Nf5,c4,Ncd4,cxd5,Qxd5,Nc3,Qc6,g4,Nxe2+,Qxe2,Nd4,Qd1,Nxf3+,Rxf3,b5,Qf1,b4,Nb5,Bb7,Kg2,Qb6,a4,Bxf3+,Qxf3,a6,Qxa8+,Kd7,Nd6,g6,Nxf7,Rg8,Ng5,c4,Nxh7,Ke7,Nf6,Kf7,Qe8+,Kg7,Nxg8,Qb7+,Kg3,Qh1,Nh6,Qg1+,Kh4', 'Qxh2+,Kg5,Qxh6#', 'https://lichess.org/training/85gs1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('85nk9', 'Blitz', 'zxcvbnm45', 1676, 'ousayed', 1686, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,c4,Nf6,Nc3,e6,cxd5,exd5,Bg5,Be7,Bb5,O-O,O-O,Bg4,h3,Bh5,g4,Nxg4,Bxe7,Nxe7,hxg4,Bxg4,Be2,Nf5,Ne5,Bxe2,Qxe2,Nxd4,Qd3,Qg5+,Qg3,Qxe5,Qxe5,Nf3+,Kg2,Nxe5,Nxd5,Rad8,Ne7+,Kh8,Rh1,Rfe8', 'Rxh7+,Kxh7,Rh1#', 'https://lichess.org/training/85nk9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('85OfL', 'Rapid', 'SHOHRAT_TURKMEN', 1763, 'DenisDG', 1730, 'e4,e5,Nf3,Qf6,Bc4,c6,d3,b5,Bb3,Be7,Be3,Qg6,O-O,d6,g3,Bh3,Re1,Bg4,Nbd2,Nh6,Kg2,O-O,h3,Be6,Nf1,Kh8,Qd2,Bxb3,axb3,f5,exf5,Nxf5,Bxa7,Nd7,c4,Nh4+,Nxh4,Bxh4,b4,Bg5,Be3,Bxe3,Nxe3,bxc4,dxc4,Qe4+,Kg1,Rxa1,Rxa1,d5,cxd5,cxd5,Qxd5,Qxd5,Nxd5,Rb8,Re1,Rb5,Rd1,Rb7,Kg2,h6,Kf3,Nf6,Nxf6,gxf6,Rc1,Rxb4,Rc2,Kg7,Ke3,Kg6,Kd3,Rb3+,Kc4,Rb8,b4,Kf5,b5,h5,Rb2,Ke6,b6,Kd6,b7,Kc6,Rb3,f5,Rf3,Rxb7,Rxf5,Kd6,Rxh5,Rc7+,Kd3,Rc5,f4', 'e4+,Kxe4,Rxh5', 'https://lichess.org/training/85OfL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('85olW', 'Blitz', 'teddy2019', 1614, 'Gabriele96', 1694, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Be2,Ne7,O-O,O-O,c4,dxc4,Bxc4,Bg4,Qd3,Nbc6,Bg5,h6,Bxe7,Qxe7,Re1,Qf6,Nc3,Qf4,g3,Qxf3,Qxf3,Bxf3,Ne4,Nxd4,Nxd6,cxd6,Rac1,Rac8,Bf1,Rxc1,Rxc1,Ne2+,Bxe2,Bxe2,Kg2,d5,f3,a5,Rc2,Bc4,b3,Bd3,Rc5,Re8,Rxd5,Re2+,Kh3,Bf5+,g4,Be6,Rd8+,Kh7,Rd3,Rxa2,Kg3,Bxb3,Rxb3,a4,Rxb7,Ra1,Rxf7,a3,Ra7,a2,Kf4,h5,h3,hxg4,hxg4,Kg6,Ra6+,Kf7,Kg5,Kf8,f4,Kg8,f5,Kh8', 'Kg6,Rd1,Ra8+,Rd8,Rxd8#', 'https://lichess.org/training/85olW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('85pOg', 'Rapid', 'Mauro_Ferreira7', 1935, 'DetroitCycling56', 1738, 'e4,e5,g3,Nc6,Bg2,Nf6,Ne2,d5,exd5,Nxd5,O-O,Be6,Nbc3,Be7,d3,O-O,Ne4,f5,N4c3,Nxc3,Nxc3,Qd6,Re1,a6,Qe2,Bf6,Be3,Rae8,Qd2,b5,a3,Rd8,Bg5,Bxg5,Qxg5,Nd4,Rac1,h6,Qe3,e4,dxe4,fxe4,Nxe4,Qb6,Nc3,Rde8,Red1,c5,b4,Bg4,bxc5,Qxc5,Qxd4,Qxa3,Qxg4,Qxc3,Rd7', 'Re1+,Bf1,Rxc1', 'https://lichess.org/training/85pOg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('861Wl', 'Rapid', 'sebzim4500', 1972, 'Pishchymukha_Roman', 1987, 'e4,c6,d4,d5,e5,Bf5,h4,h5,Bd3,Bxd3,Qxd3,e6,Nf3,c5,c3,Qb6,b3,Nc6,O-O,Nge7,Bg5,Nf5,Nbd2,cxd4,cxd4,Ncxd4', 'Nxd4,Nxd4,Be3', 'https://lichess.org/training/861Wl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('865kn', 'Blitz', 'JeyhunD', 2510, 'FM sid-al_1979', 2527, 'd4,d5,Nf3,c6,Bf4,Qb6,Nbd2,Qxb2,e4,dxe4,Nxe4,Nf6,Rb1,Qa3,Nxf6+,exf6,Bc4,Bb4+,Nd2,O-O,O-O,Nd7,Ne4,Nb6,Rb3,Qa5,Nxf6+,gxf6,Rg3+,Kh8,Bh6,Rg8,Bxf7,Rxg3,fxg3,Bf5,Qf3,Bf8,Bc1,Bxc2,Qxf6+,Bg7,Qe7,Qc3,Be8,Qxd4+', 'Be3,Qxe3+,Qxe3', 'https://lichess.org/training/865kn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('868HP', 'Rapid', 'JAIMEACV', 1727, 'Biored5', 1775, 'e4,c5,Nf3,Nc6,Be2,b6,d3,Bb7,Bg5,Qc7,a3,Nf6,Nbd2,a6,Rc1,e6,Bxf6,gxf6,c3,O-O-O,d4,d6,d5,exd5,exd5,Ne5,c4,Re8,O-O,h5,Re1,Bh6,Nxe5,Rxe5,Rc2,Bxd2,Qxd2,Rg5,Bf3,Qd7,Qf4,Rhg8,g3,Kc7,Rce2,Re5,Qxf6,Rge8,Bxh5,Rxe2,Rxe2,Rxe2,Bxe2,Qe8,Bh5,Bc8,Bxf7', 'Qe1+,Kg2,Qe4+,Qf3,Bh3+,Kxh3,Qxf3', 'https://lichess.org/training/868HP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('86BbT', 'Rapid', 'V1taly', 1953, 'bulGarche', 1842, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,h5,Bh7,Nf3,Nf6,Bd3,Bxd3,Qxd3,e6,O-O,Bd6,Ne4,Nxh5,Nxd6+,Qxd6,Qb3,Qc7,Re1,Nd7,c4,O-O,Be3,Nhf6,Rad1,Rfd8,Qc2,Qa5,Bd2,Qxa2', 'Ra1,Qxa1,Rxa1', 'https://lichess.org/training/86BbT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('86Fhu', 'Blitz', 'bet', 1601, 'vikingdead', 1525, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Nd4,Nxd4,exd4,Ne2,Bc5,c3,d5,exd5,Nxd5,Bxd5,Qxd5,cxd4,Bxd4,Nxd4,Qxd4,O-O,O-O,Re1,Bg4,Qb3,b6,Qc3,Qd6,b3,Rfe8,Bb2,f6,h3,Bd7,Re3,c5,Rae1,b5,d3,b4,Qc4+,Kh8,d4,Rxe3,Rxe3,cxd4,Bxd4,Rc8', 'Qxc8+,Bxc8,Re8+,Qf8,Rxf8#', 'https://lichess.org/training/86Fhu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('86gjp', 'Rapid', 'ozzenc', 1627, 'VictorRUS', 1636, 'e4,e6,d4,c6,Nc3,Ne7,Bf4,d5,e5,b6,Nf3,Ba6,Bxa6,Nxa6,O-O,h6,a3,g5,Be3,Nf5,Qe2,Nc7,Bd2,Be7,b4,a6,Nd1,g4,Ne1,h5,Ne3,Nxd4,Qd3,Nf5,Nxf5,exf5,Qxf5,Ne6,Nd3', 'Nd4,Qf4,Ne2+,Kh1,Nxf4', 'https://lichess.org/training/86gjp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('86Nt5', 'Rapid', 'DuarteSilva', 1700, 'belk1', 1774, 'e4,c5,Nf3,Nc6,Bc4,g6,O-O,Bg7,c3,b6,Ng5,Nh6,d4,cxd4,cxd4,Nxd4,Nh3,O-O,Be3,Ne6,Qd2,Ng4,Bxe6,fxe6,Bd4,e5,Bc3,d6,f3,Nf6,Nf2,Ba6,Re1,Qc7,Na3,Rad8,Nc2,d5,exd5,Nxd5,Qg5,Nxc3,bxc3,Qxc3,Ne3,Bf6,Qh6,Rd4,Ne4,Qa3,Nc2,Qa4,Nxd4,exd4,Ng5,Bxg5,Qxg5,d3,Rxe7', 'Qd4+,Qe3,Qxa1+', 'https://lichess.org/training/86Nt5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('86p4c', 'Rapid', 'LucianoGoiano', 2119, 'escultor_de_mates4x4', 2220, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,a4,d6,h3,Na5,Ba2,c5,c3,Be7,O-O,Nc6,Be3,g5,g4,Be6,Bxe6,fxe6,Nbd2,Qd7,d4,cxd4,cxd4,exd4,Nxd4,Ne5,Qb3,d5,exd5,Nxd5,N2f3,Nxf3+,Nxf3,O-O,Ne5,Qe8,Qc2,Bd6,Nc4,Bc7,Qe4,Rf6,Bd2,Nf4,Bxf4,Rxf4,Qe2,h5,f3,h4,Rae1,Qc6,b3,Re8,Kg2,a5,Ne5,Qd6,Rd1', 'Qxe5,Qxe5,Bxe5', 'https://lichess.org/training/86p4c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('86pWb', 'Blitz', 'white137', 1536, 'EzCheckMate', 1554, 'e4,e5,d3,Nf6,Be3,d5,Nf3,Nc6,exd5,Nxd5,h4,Nxe3,fxe3,Bc5,e4,O-O,Ng5,h6,Nc3,hxg5,Qh5,Qf6', 'hxg5,Qf2+,Kd1,Bg4+,Qxg4', 'https://lichess.org/training/86pWb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('86SPC', 'Rapid', 'casperwoud', 1967, 'edwardsklyaroff', 1850, 'e4,e5,Nf3,d6,Bc4,h6,O-O,Be7,d4,exd4,Nxd4,Nf6,Nc3,O-O,f4,Nh7,Nd5,a6,Bd2,c5,Nf3,Nc6,Bc3,b5,Nxe7+,Qxe7,Bd5,Bb7,e5,b4,exd6', 'Qe3+,Kh1,bxc3', 'https://lichess.org/training/86SPC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('86tv0', 'Blitz', 'jeanpier1456', 1549, 'ReNudo', 1645, 'e4,d5,exd5,Qxd5,d4,Nf6,Nc3,Qd8,Nf3,Bg4,Bf4,c6,Be2,e6,Qd2,Bd6,Ne5,Bxe2,Qxe2,O-O,O-O,Nbd7,Rad1,Qc7,Rfe1,Rfe8,Rd2,Nd5,Nxd5,exd5,Qd3,Nxe5,dxe5,Bb4,c3,Ba5,Rde2,Re6,Qg3,Rae8,b4,Bb6,a4,Qe7,a5,Bc7,Bg5,Qd7,Bf6,g6,Qh3,Bd8', 'Qh6,Bxf6,exf6,Rxf6,Rxe8+,Qxe8,Rxe8#', 'https://lichess.org/training/86tv0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('86WK0', 'Rapid', 'mmt707', 1756, 'Dzankos', 1770, 'd4,Nf6,c4,e6,e3,Bb4+,Bd2,Bxd2+,Qxd2,d5,Nc3,O-O,Bd3,Nc6,a3,a5,Nf3,dxc4,Bxc4,Ne7,e4,h6,O-O,c6,a4,Qb6,Ne5,Ng6,Nxg6,fxg6,Rad1,Qb4,Be2,Bd7,e5,Nd5,Qd3,Qxb2,Nxd5,cxd5,Rd2,Qb4,Rfd1,Bxa4,Qxg6,Rfe8,Bd3,Bxd1,Qh7+,Kf7,Bg6+,Ke7,Qxg7+,Kd8,Qf6+,Re7,Rxd1,Qb3,Rc1,Qa3,Rb1,Rc8,h3,Rc1+,Rxc1,Qxc1+,Kh2,a4,Qf8+,Kd7,Qa8,Qc6,f4,b5,Qa7+,Kc8,Qxe7,Kb8,Qe8+', 'Qxe8,Bxe8,a3', 'https://lichess.org/training/86WK0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('86xhR', 'Blitz', 'alik_garai', 2020, 'nimzo01', 2007, 'd4,Nf6,Bf4,g6,e3,Bg7,Be2,O-O,h4,h5,g4,hxg4,Bxg4,d6,Bxc8,Qxc8,h5,Nbd7,hxg6,fxg6,Nd2,e5,dxe5,dxe5,Bg3,Nc5,Qf3,e4,Qe2,Qf5,O-O-O,Rad8,Bxc7,Rd7,Bf4,Ne6,Qc4,Rdf7,Bg3,b5,Qb4,Rc8,Ne2,Nc5,Nd4', 'Nd3+,Kb1,Nxb4,Nxf5,gxf5', 'https://lichess.org/training/86xhR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('86XW4', 'Rapid', 'Bimma', 1660, 'umbit64', 1650, 'e4,c5,d4,e6,Nf3,Nc6,Nc3,Qb6,d5,Nd4,dxe6,dxe6,Be3,Nxf3+,Qxf3,Qxb2,Bb5+,Bd7,Bxd7+,Kxd7,Rd1+,Ke7,e5,Qxc3+,Rd2,Rb8', 'Bg5+,Ke8,Qxc3', 'https://lichess.org/training/86XW4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('873F5', 'Classical', 'vopaev', 1920, 'hazarchess2008', 1847, 'd4,Nf6,c4,e6,e3,Bb4+,Nc3,Bxc3+,bxc3,O-O,Nf3,d5,a4,c6,Ba3,Re8,Bd3,Qa5,Bb4,Qc7,Ne5,a5,Ba3,Nbd7,Nxd7,Bxd7,Qc2,dxc4,Bxc4,b5,axb5,cxb5,Bd3,b4,Bb2,Rec8,Rc1,Nd5,c4,Nb6,c5,Ba4,Qb1,Nd5,O-O,Bc6,Bxh7+,Kh8,Be4,a4,Ba1,Qb7,Rc4,Bb5,Bxd5', 'Qxd5,Rxb4,Bxf1', 'https://lichess.org/training/873F5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('874ly', 'Rapid', 'Aspyona', 1680, 'Stresslessness', 1638, 'e4,e6,Nf3,d5,exd5,exd5,Nc3,c6,d4,Bd6,Bg5,f6,Bh4,Ne7,Qe2,Bf5,O-O-O,Nd7,Kb1,b5,h3,O-O,g4,b4,Na4,Bg6', 'Qe6+,Rf7,Qxd6', 'https://lichess.org/training/874ly');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('874VB', 'Rapid', 'Fronso', 1990, 'maks1991', 1765, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Bd3,Nc6,c3,Be7,O-O,O-O,h3,d5,exd5,Nxd5,Nxc6,bxc6,Qf3,Nf6,Nd2,Rb8,Ne4,c5,Rb1,Bb7,Nxf6+,Bxf6,Be4,Bxe4,Qxe4,Bxc3', 'bxc3,Rxb1,Qxb1', 'https://lichess.org/training/874VB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('876Ll', 'Rapid', 'eyalbal', 2134, 'Falcon77', 2137, 'd4,Nf6,c4,g6,Nc3,d5,Nf3,Bg7,e3,O-O,a4,c6,Be2,Nbd7,O-O,b6,a5,Ba6,axb6,axb6,b3,Qc7,Bb2,dxc4,bxc4,Rfd8,Rc1,e5,Qc2,exd4,exd4,Re8,Rfd1,c5,d5,Ng4,h3,Nge5,Nxe5,Nxe5,d6,Qd7,Ne4,Bb7,Ng3,Qc6,Bf1,h5,f4,Nd7,Bxg7,Kxg7,f5,Nf6,fxg6,fxg6,Bd3,h4,Nf1,Ne4,Bxe4,Qxe4,d7,Red8,Qxe4,Bxe4,Rd6,Ra7,Rcd1,Bf5,Ne3,Raxd7', 'Nxf5+,gxf5,Rxd7+,Rxd7,Rxd7+', 'https://lichess.org/training/876Ll');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8770z', 'Rapid', 'Fomenkov', 2103, 'todo_pro', 2231, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,h3,O-O,Nf3,e5,dxe5,dxe5,Be3,Qe7,Qc2,c6,Be2,h6,Rd1,Na6,a3,b6,b4,Bb7,O-O,Rad8,Nb1,Nh5,c5,b5,Qc1,Kh7,Rxd8,Rxd8,Rd1,Nc7,g3,Ne6,Kg2,Bc8,Nh2,Nd4,Bxh5,gxh5,Qd2,Qe6,Bxd4,Qxh3+,Kg1,Rxd4,Qe2,Bg4,Nxg4,Qxg4,Qxg4,hxg4,Rxd4,exd4,Kf1,Kg6,Ke2,f5,exf5+,Kxf5,Kd3,Ke5,Nd2,Kd5,Nf1,h5,Nh2,Be5,Nf1,Bg7,Nd2,Bh6,Nb3,Bg7,Nd2,Bh6,Nb3,Bg7,Nd2,Bf6,Nb3,Be5,Nd2,a5,bxa5,Kxc5,Nb3+,Kd5,a6,Bb8,Nxd4,Ba7,Nf5,Bxf2', 'Ne3+,Kd6,a7', 'https://lichess.org/training/8770z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('87bJ4', 'Rapid', 'TOSHA215', 1880, 'slmsih', 1979, 'e4,c5,Nf3,d6,Bc4,e6,O-O,Nf6,Nc3,a6,a4,Be7,d3,O-O,Bd2,Re8,e5,dxe5,Nxe5,Nbd7,Nxd7,Bxd7,Re1,Bc6,Be3,Qc7,g3,Qe5,Bd2,Qf5,Bf4,Qh3,f3,Ng4,Qe2,Bf6,fxg4', 'Bd4+,Be3,Bxe3+,Qxe3,Qg2#', 'https://lichess.org/training/87bJ4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('87bm2', 'Rapid', 'Figira', 2063, 'dsye', 2074, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,Bxc3,Bxc3,Ne4,Qc2,Nxc3,Qxc3,b6,Nf3,Bb7,g3,Qf6,Bg2,O-O,O-O,d6,Rfe1,c5,Rad1,Nc6,dxc5,Qxc3,bxc3,dxc5,Rd7,Na5,Red1,Bc6,Rc7,Rfc8,Rxc8+,Rxc8,Ne5,Bxg2,Kxg2,f6,Nf3,Rc7,Rd6,Kf7,e4,Nxc4,Rd8,h6,g4,Ke7,Rg8,Kd6,h4,Ne5,Kg3,Nxf3,Kxf3,Ke5,Ke3,Rd7,f4+,Kd6,a4,e5,f5,Kc7,Ke2,Kb7,Re8,Ka6,g5,hxg5,hxg5,Ka5,g6,Kxa4,Rf8,Kb3', 'Rf7,Rd8,Rxg7', 'https://lichess.org/training/87bm2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('87D1L', 'Rapid', 'ASD80', 1650, 'charakt', 1769, 'e4,e5,Nf3,f5,Nxe5,Qf6,Nc4,Bc5,e5,Qh4,g3', 'Qe4+,Qe2,Qxh1', 'https://lichess.org/training/87D1L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('87iLW', 'Blitz', 'IM Panesso', 2616, 'Ute-Manfred', 2639, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,Be7,Qf3,Qc7,O-O-O,Nbd7,Bd3,h6,Qh3,Nb6,Rhe1,e5,Nf5,Bxf5,exf5,O-O-O,Bh4,Kb8,fxe5,dxe5,Rxe5,Bd6,Re2,Ka8,Bg3,Bf4+,Bxf4,Qxf4+,Qe3,Nbd5,Qxf4,Nxf4,Re7,Nxd3+,Rxd3,Rxd3,cxd3,Rf8,Kd2,Kb8,h3,Kc8,g4,Nd7,Ne4', 'Kd8,Rxd7+,Kxd7', 'https://lichess.org/training/87iLW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('87Kvh', 'Classical', 'capobruno', 1649, 'sandman20isbeast', 1692, 'g3,e5,Bg2,d5,c3,Nc6,h3,Be6,e3,Qd7,Nf3,f6,d4,e4,Nh2,Bxh3', 'Qh5+,g6,Qxh3', 'https://lichess.org/training/87Kvh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('87ObM', 'Rapid', 'lcbmn2020', 1726, 'Mellah-Mohamed', 1814, 'd4,Nf6,e3,g6,Nc3,Bg7,e4,d6,f3,O-O,Be3,e5,Nge2,c6,Qd2,Nbd7,g4,b5,h4,b4,Na4,exd4,Nxd4,Qc7,h5,c5,Nb5,Qa5,b3,Ne5,Qg2,Ba6,Nxd6,Bxf1,Qxf1,Nfxg4,fxg4,Nxg4,Bxc5,Bxa1,Qh3,Bc3+,Nxc3,Qxc5,Nd5,Qxd6,hxg6,h6,Qxg4,fxg6,Rxh6,Kg7,Qg5,Rae8,Qh4,Rxe4+,Qxe4,Qg3+,Kd2,Qf2+,Kc1,Kxh6,Qxb4,Rd8,Qe4,Qf5', 'Qh4+,Qh5,Qxd8', 'https://lichess.org/training/87ObM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('87q4E', 'Rapid', 'JBNguiji', 2120, 'jaruizmo', 2122, 'e4,e5,Bc4,Nf6,Nf3,Bc5,Nxe5,O-O,d3,d5,exd5,Nxd5,O-O,Qf6,d4,c6,Nxc6,bxc6,dxc5,Be6,c3,Nxc3,Qb3,Bxc4,Qxc4,Nxb1,Rxb1,Nd7,Be3,Rab8,b3,h6,Rfd1,Qf5,Qd3,Qxd3,Rxd3,Nf6,Rd6,Rbc8,Bxh6,Ne4,Rd4,Nxc5,Rg4,Ne6,f4,Kh7,f5,gxh6,fxe6,fxe6,Re4,Rf6,Rbe1,Re8,Ra4,Re7,Re5,Ref7,h3,Rf1+,Kh2,R1f6,Rea5,Re7,Rxa7,Rff7,Rxe7,Rxe7,Re4,e5,Kg3,Kg6,Kf3,Kf5,g4+,Kg5,Kg3,Kf6,a4,Rd7,b4,Rd3+,Kh4,Rc3,a5,Rd3,Re2,Rd4,Rc2,e4,Rxc6+,Ke5,Rxh6,e3,Rh8,Re4,Rc8', 'e2,Rc1,e1=Q+,Rxe1,Rxe1', 'https://lichess.org/training/87q4E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('87RXz', 'Rapid', 'prokasparovraad7', 1771, 'MohamedS3D', 1745, 'Nf3,Nf6,Nc3,d6,e4,e5,h3,Be7,d4,exd4,Nxd4,O-O,Bd3,b6,Nf5,Bxf5,exf5,Nc6,Ne4,Nxe4,Bxe4,Qd7,Bd2,Rad8,Bc3,Ne5,f4,d5,Bd3,Nxd3+,Qxd3,d4,O-O-O,c5,Be1,Bf6,g4,Rfe8,g5,Re3', 'Qxe3,dxe3,Rxd7,Rxd7,gxf6', 'https://lichess.org/training/87RXz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('87Wf6', 'Rapid', 'mikalmo', 1687, 'Jelba', 1685, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Nf6,d4,exd4,Nxd4,Nxd4,Qxd4,b6,Be3,Bc5,Qd3,Bxe3,Qxe3,Bb7,O-O-O,Ng4,Qf4,Qg5,Bxf7+,Kf8,Qxg5,hxg5,Rxd7,Rc8,Rhd1,Ne5,Rd8+', 'Kxf7,Rxh8,Rxh8', 'https://lichess.org/training/87Wf6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('87YSf', 'Rapid', 'Aboalbra', 1734, 'marcoslinhares', 1710, 'Nf3,c5,e4,d6,g3,e5,Bg2,Nc6,O-O,Nf6,d3,Be7,Bg5,h6,Bd2,O-O,Nc3,Be6,Qc1,Kh7,Nh4,Ng8,Nf5,Bxf5,exf5,a6,Be4,f6,Nd5,Rc8,Nxe7,Qxe7,Bd5,b5,Re1,Nd4,Be4,c4,dxc4,Rxc4,c3,Rfc8,b3,R4c7,Qa3,d5,Qxe7,Nxe7,cxd4,dxe4,dxe5,Nxf5,exf6,gxf6,Rxe4,Rc2,Bf4,R8c3,Re6,Kg6,Rxa6,Nd4,Be5', 'Nf3+,Kg2,Nxe5', 'https://lichess.org/training/87YSf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('882SW', 'Blitz', 'DSanya1', 1516, 'AVner55', 1552, 'e4,e5,Nc3,Nc6,Nf3,Bb4,Nd5,Bc5,Be2,Nf6,O-O,O-O,c3,Nxe4,d4,exd4,cxd4,Bb6,Qd3,Nf6,Ng5,h6', 'Nxf6+,Qxf6,Qh7#', 'https://lichess.org/training/882SW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('884LO', 'Blitz', 'gsp4706', 1666, 'deepak2504', 1710, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,a6,Nc3,Nf6,Bc4,d6,O-O,e6,Bg5,Be7,Kh1,O-O,f4,Qc7,e5,dxe5,fxe5,Qxe5,Nxc6,bxc6,Bf4,Qc5,b3,e5,Bg5,Ng4,Ne4,Qa7,Bxe7,Qxe7,Qd6,Qh4,h3,Ne3,Rf3,Qxe4', 'Bxf7+,Rxf7,Qd8+,Rf8,Qxf8#', 'https://lichess.org/training/884LO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('88A4L', 'Blitz', 'ThiagoRGuerra', 2053, 'vadon2002', 1722, 'Nf3,e6,c4,d5,d4,Nf6,g3,c6,Bg2,Bd6,O-O,h6,Qc2,Qe7,Nc3,O-O,e4,e5,dxe5,Bxe5,exd5,Bxc3,Qxc3,cxd5,c5,Nc6,Re1,Be6,Bf4,Rac8,Bd6,Qd7,Bxf8,Rxf8,Rad1,Rd8,a3,Qe7,Nd4,Ne4,Bxe4,dxe4,Rxe4,Nxd4,Rdxd4,Rc8,b4,Qf6,Qd2,a6,Rd6,Qf5,Rf4,Qb1+,Qd1,Qa2,Rd8+,Rxd8,Qxd8+,Kh7,Qd3+,g6,Rf3,Bh3,Qd1,Bg4,Rxf7+,Qxf7,Qxg4,h5,Qd4,Qf5,a4,Qe6,b5,axb5,axb5,Qf5,c6,bxc6,bxc6,Qb1+,Kg2,Qb8,Qd7+,Kh6,c7,Qb7+,Kh3,Qa6,c8=Q', 'Qf1+,Kh4,g5#', 'https://lichess.org/training/88A4L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('88Bb6', 'Classical', 'AndreiWT', 1811, 'zdenek1', 1710, 'e4,Nc6,d4,e6,Nf3,a6,Nc3,Bb4,Bd2,Qf6,e5,Qf5,Bd3,Qg4,O-O,Nxd4,Nxd4,Qxd4,Qh5,g6,Qg5,h6,Qf4,Qxf4,Bxf4,Bxc3,bxc3,Ne7,Be4,c6,c4,b5,cxb5,axb5,Be3,Ra4,Bd3,Nd5,Bc5,Ba6,a3,Nf4,g3,Nxd3,cxd3,Ra5,Bb4,Ra4,f4,h5,h4,Kd8,d4,Kc7,Kg2,Bb7,Kh3,Kb6,Rad1,Rha8,Rf3,Ka6,Rc3,Rxb4,axb4,Kb6,Rdd3,Ra1,Kh2,Ra2+,Kg1,Kc7,Ra3,Rc2,Kf1,d5,Ke1,Rc4,Rab3,Rc1+,Kd2,Rf1,Kc2,Rf2+,Rd2,Rf1,Rb1,Rf3,Rd3,Rf2+,Kc3,Kb6,Rb2,Rf1,Rg2,Ra1,g4', 'Ra3+,Kc2,Ra2+,Kb3,Rxg2', 'https://lichess.org/training/88Bb6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('88cBi', 'Rapid', 'retro13', 1662, 'Gandeloso', 1696, 'e4,c5,c3,e5,Nf3,Nc6,Be2,d6,O-O,Nf6,d4,exd4,cxd4,cxd4,Nxd4,Nxe4,Nxc6,bxc6,Bd3,Nc5,Re1+,Be7,Bc2,O-O,Qh5,g6,Qh6,Bf6,Nc3,Bg7,Qf4,d5,Be3,Ne6,Qb4,d4,Rad1,c5,Qc4,Qc7,Nd5,Qb7,Bc1,Bd7,Bd3,Bc6,Nf4,Nxf4,Bxf4,Qb6,Bd6,Rfe8,Bxc5,Qb7,f3,Rxe1+,Rxe1,Rd8', 'Re7,Qxe7,Bxe7', 'https://lichess.org/training/88cBi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('88eiq', 'Classical', 'ykpylmz', 1768, 'SuperMaxXX', 1852, 'e4,d5,exd5,Nf6,Nf3,Qxd5,Nc3,Qd8,Bc4,Bf5,O-O,e6,Re1,Bc5,d4,Bb6,d5,O-O,dxe6,Qxd1,Nxd1,Bxc2,exf7+,Kh8,Be3,Bg6,Bxb6,axb6,Ne5,Bh5,Ne3,Nc6,g4,Nxe5,gxh5,Nxc4,Nxc4,Rxf7,Ne5,Re7', 'Ng6+,hxg6,Rxe7', 'https://lichess.org/training/88eiq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('88fpO', 'Rapid', 'Aboalladqazaq', 1918, 'Ashrichem', 1841, 'e4,e6,Nf3,d5,exd5,Nf6,dxe6,Bxe6,d4,Bd6,Nc3,a6,d5,Nxd5,Nxd5,Bxd5,c4,Bc6,Qe2+,Qe7,Be3,Nd7,Nd4,Be4,O-O-O,O-O,f3,Bg6,h4,h6,h5,Bh7,Qd2,Qf6,g4,Ne5,Be2,Rfd8,g5,Qe7,gxh6,g6,hxg6,Bxg6,Rdg1,Kh7,Bg5,f6,Bf4,Nc6,Rxg6,Kxg6,Bd3+,Kf7,Bxd6,Qxd6,Nxc6,bxc6,Rd1,Rh8,Qe3,Qe5,Be4,Rad8,Rg1,Rdg8,Rxg8,Rxg8,h7,Re8,c5,f5,Qg5,fxe4', 'Qxe5,Rxe5,h8=Q', 'https://lichess.org/training/88fpO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('88r56', 'Rapid', 'Est357', 1880, 'Jazzit', 1863, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Bd3,Nd5,Nf3,Bd6,O-O,O-O,Re1,f6,Be4,Ne7,d4,f5,dxe5,Bb4,c3,fxe4,cxb4,exf3,bxa5,Qxa5,Qb3+,Kh8,Bd2,Qc7,Nc3,Rb8,Qc4,Rxb2,Bg5,Ng6,Qc5,Rc2,e6,Re8,Qe3,Rxe6,Qxf3,Rxe1+,Rxe1,h6,Ne4,Qe5,Rd1,Bf5,Ng3,Be6,Qd3,Rxa2,Qxg6,Bd5,Rb1,Qxg5,Rb8+,Bg8,Qf7,Ra1+,Nf1,Rxf1+,Kxf1,Qc1+,Ke2,Qc2+,Kf3,Qc3+,Kg4,Qd4+,Qf4,Qd7+,Kg3,g5,Qe5+,Kh7,Re8,Bf7,Qe4+,Kg7,Re7,Qd8,Qe6,Qf8,Rxa7', 'Qb8+,Kh3,Qxa7', 'https://lichess.org/training/88r56');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('88VR6', 'Blitz', 'local_optima', 1648, 'Hunter1984', 1630, 'e4,e6,d4,b6,c4,Bb7,Nc3,Bb4,Bd3,Qh4,Qe2,Nf6,e5,Bxc3+,bxc3,a6,Nf3,Qg4,exf6,Qxg2,Rf1,Bxf3,fxg7,Rg8,Qe5,d6,Qg3,Rxg7,Qxg2,Rxg2,Bxh7,Rxh2,Be4,Bxe4,Rg1,Ke7,Bf4,Bd3,Bxh2,Bxc4,Kd2,Nc6,Rg7,Rh8,Bg3,Kf6,Rg4,Ne7,a3,Nc6,Rg1,Na5,Bf4,Kf5,Bg5,e5,dxe5,dxe5,f4,Nb3+,Ke3,Rh3+,R4g3,exf4+,Bxf4,Rh4,Bxc7,Re4+,Kf2', 'Re2+,Kf3,Nd2#', 'https://lichess.org/training/88VR6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('88x8g', 'Rapid', 'Harcos', 1906, 'interdent', 1748, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Bd2,Qc7,Bc4,Nf6,Qe2,e6,Nf3,h6,Ne5,Nbd7,O-O-O,b5,Bb3,a5,a3,b4,Nb1,bxa3,Nxa3,Bxa3,bxa3,O-O,Qc4,Nxe5,dxe5,Qxe5,Bc3,Qg5+,Bd2,Qd5,Qh4,Qh5,Qf4,Nd5,Qg3,Qg6,Qd6,Qf6,Kb1,a4,Bxd5,cxd5,Bb4,Ba6,f3,Bc4,Rd2,Rab8,Re1,Qc3', 'Qxf8+,Rxf8,Bxc3', 'https://lichess.org/training/88x8g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('88xGF', 'Rapid', 'CZUPAKABRA', 1870, 'gligor221b', 1867, 'c4,e5,Nc3,Nf6,g3,d5,cxd5,Nxd5,Bg2,Be6,Nf3,Nxc3,bxc3,Nc6,d4,exd4,cxd4,Bb4+,Bd2,O-O,Bxb4,Nxb4,O-O,Qd7,Ne5,Qc8,a3,Na6,d5,Bh3,e4,Bxg2,Kxg2,Re8,f4,Nc5,Qc2,b6,Rac1,Qa6,Rf3,Qc8,h3,h6,Qc4,Nd7,Nxd7,Qxd7,e5,Rac8,Rfc3,c5,g4,Red8,Rd1,b5,Qd3,b4,axb4,cxb4,Rxc8,Rxc8,Ra1,Rc5,d6,a5,Kg3', 'Rc3,Qxc3,bxc3', 'https://lichess.org/training/88xGF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('88yNO', 'Rapid', 'Berser99', 1968, 'Brucelee2021', 2002, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,O-O,c3,d5,exd5,Nxd5,d4,exd4,Nxd4,Nxd4,Qxd4,Bb7,c4,Bf6,Qg4,Ne7,cxb5,axb5,Nc3,Ng6,Nxb5,Ne5,Qg3,Nd3,Rd1,Nxc1,Rxd8', 'Ne2+,Kh1,Nxg3+', 'https://lichess.org/training/88yNO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('893do', 'Rapid', 'magnus_Granz', 1617, 'OceanWickermann', 1600, 'e4,e5,Nf3,Nc6,Bb5,f6,Bxc6,dxc6,d3,Bg4,h3,Be6,Qe2,Qd7,Be3,c5,Nbd2,g5,g4,h5,gxh5,Rxh5,Nxe5,Qh7,c4,fxe5,O-O-O,Rxh3,Rhg1,Be7,Nb3,O-O-O,Bxc5,Bxc5,Nxc5,Qg6,Qc2,Rh4,Qb3,b6,Na6,Rg4,Rge1,Nf6,Qb4,c6,c5,b5,Qa5,Rd7,Rh1,Rh4,Rhe1,Ng4,Nb4,Bg8,Nd5,Bxd5,Qa6+,Kd8,exd5,Nxf2,dxc6,Nxd3+,Rxd3,Rxd3', 'c7+,Kxc7,Qxg6', 'https://lichess.org/training/893do');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('894ea', 'Classical', 'juz4l', 1623, 'KMRR', 1722, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,e5,Nd5,Bc4,Qh4,Bxd5,Bc5,g3,Qd4,Qxd4,Bxd4,Bg2,Bxe5,O-O,O-O,Re1,Bf6,Nc3,Rb8,Rb1,Bb7,Bd2,d6,Ne4,Be5,f4,Bd4+,Kh1,d5,Bc3,Bb6,Ng5,d4,Bb4,c5,Bd2,Bxg2+,Kxg2,Rfd8,b4,d3,bxc5', 'dxc2,Rbc1,Rxd2+', 'https://lichess.org/training/894ea');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('899hg', 'Blitz', 'sy_raza', 1544, 'Simon_Wilt', 1542, 'c4,b6,d4,Bb7,Nc3,Nc6,d5,Nb4,Nf3,c5,a3,Na6,b4,cxb4,axb4,Nxb4,Ba3,a5,e4,g6,Be2,Bg7,Bb2,Nf6,O-O,Nxe4,Nxe4,Bxb2,Rb1,Bg7,h3,Na2,Rxb6,Qxb6,Qd3,Nb4,Qd2,O-O,Nfg5,Bh6,h4,f5,Ng3,f4,N3e4,Bxg5,Nxg5,Rf5,Qc3,Rc8,Bg4,Nxd5,Qa1,Rcf8,Bxf5,Rxf5,cxd5,f3,g3,Bxd5,Rd1,Bc6,Rb1,Qc5', 'Rb8+,Rf8,Rxf8+,Kxf8,Qh8#', 'https://lichess.org/training/899hg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('89eJA', 'Rapid', 'PositionalStyle', 2324, 'FM BillieJoe', 2461, 'd4,d5,c4,dxc4,e3,e5,Bxc4,exd4,exd4,Bd6,Nf3,Nf6,Qe2+,Be7,O-O,O-O,Nc3,h6,Bf4,Bg4,h3,Bxf3,Qxf3,c6,Rfe1,Nbd7,Rad1,Nb6,Bb3,Re8,d5,Nfxd5,Nxd5,Nxd5,Bxd5,cxd5,Qxd5,Qb6,Qd7,Qf6,Be5,Qg5,Bd6,Kf8,Bxe7+,Rxe7', 'Qd8+,Rxd8,Rxd8+,Re8,Rexe8#', 'https://lichess.org/training/89eJA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('89IDa', 'Rapid', 'alagosi', 1791, 'Badrov80', 1817, 'd4,g6,c4,Bg7,e4,a6,Nc3,h6,Be3,e6,Nf3,d6,Be2,g5,d5,e5,Qd2,g4,Ng1,h5,O-O-O,Nd7,b3,Bh6,g3,Bxe3,Qxe3,Nc5,h3,Nf6,hxg4,Bxg4,Bxg4,Nxg4,Qe2,Qg5+,Kb2,O-O-O,f3,Nf6,g4,hxg4,fxg4,Nxg4,Rxh8,Rxh8,Nf3,Qf4,Rg1,f5,exf5,Qxf5,Nd2,Nd3+,Ka3,Nf4', 'Qxg4,Qxg4,Rxg4', 'https://lichess.org/training/89IDa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('89IoB', 'Blitz', 'AntiQuercus', 1591, 'Kchessnokov', 1606, 'd4,d5,c4,Nc6,Nc3,Nf6,e3,Bg4,Qc2,e6,Bd3,Bb4,Ne2,dxc4,Bxc4,Bh5,O-O,Bg6,Qa4,Qd6,Nb5,Qe7,Nf4,O-O-O,Nxa7+,Kd7,Nxc6,bxc6,Rd1,Bd6,d5,exd5,Nxd5,Nxd5,Bxd5,Be4,Qxc6+,Kc8,Bxe4,Bxh2+,Kxh2', 'Qh4+,Kg1,Rxd1#', 'https://lichess.org/training/89IoB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('89jI1', 'Blitz', 'Zott607', 1502, 'CrackheadInThePark', 1503, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Nf6,b3,Bg4,Bb2,Nc6,h3,Bh5,g4,Bg6,Nh4,O-O-O,Nxg6,hxg6,Bg2,e6,Ne4,Nxe4,Bxe4,f5,gxf5,gxf5,Bf3,Rh4,Qe2,Nb4,O-O-O,Nxa2+,Kb1,Nb4,Qb5,Qa6,Bxb7+,Qxb7,Qc4,Qb6,Qxh4,Qa6,Rhe1,Rd7,d4,Be7,Qh8+,Rd8,Qxg7,Bf8,Qe5,Re8,d5,Bd6,Qd4,e5,Rxe5,Qa2+,Kc1,Bxe5,Qxb4,Qxb2+,Kd2,Bc3+', 'Qxc3,Re2+,Kd3,Qxc3+,Kxc3', 'https://lichess.org/training/89jI1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('89kf2', 'Blitz', 'FM SergIomiguel', 2341, 'lcyfgcm18', 2392, 'Nf3,d5,g3,c6,Bg2,Nf6,O-O,e6,d3,Nbd7,Nbd2,Be7,e4,O-O,e5,Ne8,Re1,c5,c4,Nb6,b3,Bd7,h4,Bc6,Qe2,Rc8,a4,Nc7,Bh3,Na6,Ba3,Nd7,h5,h6,Nf1,Ndb8,Ne3,d4,Ng4,Nb4,Bg2,N8a6,Bc1,Kh8,Bf4,b6,Qd2,Bxf3,Bxf3,Bg5,Kg2,Rc7,Be4,Bxf4,Qxf4,Qg5,Qxg5,hxg5,h6,Nc2', 'hxg7+,Kxg7,Rh1', 'https://lichess.org/training/89kf2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('89PKc', 'Rapid', 'Akmal1975', 1998, 'emirbey20', 1888, 'e4,c6,d4,d5,exd5,cxd5,c3,Nc6,Nf3,Bg4,Be2,e5,dxe5,Bxf3,Bxf3,Nxe5,Qxd5,Nd3+,Ke2,Qe7+,Be3', 'Nf4+,Kd2,Nxd5', 'https://lichess.org/training/89PKc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8A5w0', 'Classical', 'CemAslanAy', 1652, 'Qwerty_0101', 1620, 'e4,e6,d4,d5,e5,c5,c3,cxd4,cxd4,f6,Nf3,fxe5,Nxe5,Nc6,Bb5,Qa5+,Bd2,Qxb5,Qf3,Nxd4', 'Qf7+,Kd8,Qxf8+', 'https://lichess.org/training/8A5w0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8A8fO', 'Blitz', 'Anton_Kutsenko', 1569, 'zzalimm', 1826, 'e4,d6,Nf3,g6,Bc4,Nc6,d4,Bg7,c3,e5,dxe5,Nxe5,Nxe5,Bxe5,Qf3,Be6,Bxe6,fxe6,Na3,a6,Be3,Qf6,Qg4,Qe7,O-O-O,Nf6,Qe2,Nxe4,Bd4,Bf4+,Kb1,Nf6,g3,Bh6,Qf3,O-O,Qxb7,Rfb8,Qf3,Bg7,Rhe1,e5,Nc4,Qe6,b3,Qxc4,Bxe5,dxe5,Rxe5,Rb5,Qxa8+,Kf7,Rd7+,Nxd7', 'Qe8+,Kf6,Qe7#', 'https://lichess.org/training/8A8fO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8A8Sl', 'Rapid', 'pastorpinango', 1749, 'nica', 1696, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Qc7,Nc3,Nxd4,Qxd4,e6,Be3,a6,O-O-O,Nf6,h3,Bc5', 'Qxc5,Qxc5,Bxc5', 'https://lichess.org/training/8A8Sl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8aE7W', 'Rapid', 'KHALED0183', 1704, 'shirzadrahim', 1727, 'd4,d5,e3,Nf6,Nc3,e6,Bd3,Nc6,Nh3,e5,dxe5,Nxe5,O-O,Bxh3,gxh3,Be7,e4,d4,Nb5,O-O,Bf4,Bd6,Bxe5,Bxe5,Qf3,a6,Na3,Qd6,Nc4,Qe6,Nxe5,Qxe5,c3,dxc3,bxc3,Qxc3,Rfe1,Qe5,Rac1,Rad8,Bb1,Rd4,Rc3,Re8,Rce3,c5,a3,b5,Ba2,c4,Qf5,g6,Qxe5,Rxe5,Bb1,h6,Rf3,Kg7,Rf4,g5,Rf5,Rxf5,exf5,c3,f3,Rd2,Rc1,Nd5,Be4,Nf4,Kf1,Rxh2,Rxc3,Ra2,Rc6,Rxa3', 'f6+,Kh8,Rc8#', 'https://lichess.org/training/8aE7W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8afam', 'Classical', 'Lightning_13', 1651, 'dolphinday', 1748, 'd4,d5,c4,c6,Nc3,Nf6,e3,e6,Bd3,Bb4,Bd2,O-O,a3,Bd6,Nf3,Nbd7,e4,dxe4,Nxe4,Nxe4,Bxe4,Nf6,Bd3,c5,dxc5,Bxc5,Qc2,Bd7,b4,Be7,O-O,Bc6,Kh1,Bxf3,gxf3,Rc8,Rg1,Nd5,Bh6,Bf6,Bxh7+,Kh8,Bd2,g6,Bxg6,fxg6,Qxg6,Rf7,cxd5,Rh7,Bg5,Bxg5,Rxg5,Qe7,Rag1,Qf7,Qe4,exd5,Qe5+,Rg7,Rxg7,Qxf3+,R1g2', 'Rc1+,Qe1,Rxe1#', 'https://lichess.org/training/8afam');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8AFYf', 'Rapid', 'dannyappleseed', 1821, 'Busel', 1746, 'e4,e6,Nc3,c5,Nf3,Nc6,d3,Nge7,Be3,Ng6,Be2,Be7,O-O,O-O,h3,b6,a3,d5,Bd2,Ba6,exd5,exd5,Re1,d4,Ne4,Bb7,Rb1,Qc7,Qc1,Rae8,Nh2,f5,Ng3,Bd6,Nhf1,Nd8,c3,Nh4,cxd4,Nxg2,Qc4+,Kh8,d5,Nxe1,Rxe1,Qf7,Bf3,Qg6', 'Bh5,Rxe1,Bxg6', 'https://lichess.org/training/8AFYf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8aGC0', 'Rapid', 'krauzand', 1899, 'Chutney', 1796, 'd4,e6,Nf3,c5,c3,Nc6,Bf4,d5,e3,Nf6,h3,h6,Bd3,g5,Bh2,c4,Be2,Bg7,Qc2,Ne4,Nbd2,f5,Ne5,Nxe5,dxe5,b5,Bh5+,Ke7,f3,Nc5,O-O-O,Nd3+,Kb1,Nf2,Rhf1,Nxd1,Rxd1,Qb6,e4,fxe4,fxe4,d4,cxd4,Qxd4,Nb3,cxb3,Qc7+,Qd7,Rxd7+,Bxd7,axb3,Rhc8,Qd6+,Kd8,Bg1,Rc6,Qd4,a5,Be2,Rb8,Be3,b4,Bc4,Ke7,h4,g4,Bf4,h5,Qa7,Rf8,g3,a4,bxa4', 'Rxc4,Bg5+,Ke8', 'https://lichess.org/training/8aGC0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8AhO3', 'Rapid', 'martin1802', 1939, 'springer-52', 1991, 'f4,d6,Nc3,e5,fxe5,dxe5,Nf3,Nc6,e4,Bg4,Bb5,Bc5,Bxc6+,bxc6,d3,Qf6,Qe2,Ne7,Be3,Bb6,O-O,Qd6,Qf2,O-O-O,Na4,Kb7,Nxb6,cxb6,Nd2,f5,exf5,Nxf5,Ne4,Qg6,a4,Nd4,Bxd4,exd4,Qg3,Bf5,Qxg6,Bxg6,Ng5,Rhf8,Ne6,Rxf1+,Rxf1,Rd7,Nf8,Rd6,Nxg6,Rxg6,Rf7+,Ka6,Kf2,h5,Kf3,h4,g3,hxg3,hxg3,b5,axb5+,cxb5,Rd7,Rf6+,Ke4,Rg6,Kxd4,Rxg3,b4,g5,c4,Rg4+,Kc5,bxc4,dxc4,Rf4', 'b5+,Ka5,Rxa7#', 'https://lichess.org/training/8AhO3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8ALrH', 'Blitz', 'CM FourNinetySix', 2408, 'RAG0406', 2326, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Qd2,Nc6,Bc4,Nd7,h4,Nde5,Bb3,h5,Nd5,Na5,Bg5,Re8,Bxe7,Rxe7', 'Nxe7+,Qxe7,Qxa5', 'https://lichess.org/training/8ALrH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8alyA', 'Blitz', 'Neubourg', 2139, 'QiDiscipline', 2027, 'd4,c6,Nc3,d5,e4,Nf6,e5,Nfd7,f4,e6,Be3,c5,Nf3,Nc6,Qd2,g6,h4,a6,h5,Bg7,hxg6,hxg6,Rxh8+,Bxh8,Bd3,c4,Be2,b5,a3,Rb8,O-O-O,a5,Rh1,Bg7,Rh7,Bf8,Ng5,b4,axb4,axb4,Nb1,c3,bxc3,bxc3,Qxc3,Bb4,Qxc6,Qa5,Rxf7', 'Ba3+,Kd1,Rxb1+,Bc1,Rxc1#', 'https://lichess.org/training/8alyA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8AnVA', 'Rapid', 'milind023', 1763, 'Nurlan_1983', 1785, 'e4,e5,Bc4,Nf6,Nc3,Bc5,Nf3,d6,d3,h6,h3,Nc6,Ne2,Be6,Bb5,Qd7,c3,a6,Ba4,O-O,Ng3,b5,Bc2,d5,O-O,Rad8,Be3,d4,cxd4,exd4,Bd2,Bd6,Qc1,Bxg3,fxg3,Bxh3,gxh3,Qxh3,Bf4,g5,Bxg5,Qxg3+,Kh1,Ng4,Qd2,Qh3+,Kg1,Ne3,Rf2,Qg3+,Rg2,Nxg2,Qxg2,Qxg2+,Kxg2,hxg5,Nxg5,Ne5,Rg1,Ng6,Kf2,Kg7,Bb3,c5,Ke2,a5,Bxf7,Rxf7,Ne6+,Kf6,Nxd8,Rd7,Nc6,a4', 'Rxg6+,Kxg6,Ne5+,Kg5,Nxd7', 'https://lichess.org/training/8AnVA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8AOe0', 'Blitz', 'FM Gudari', 2377, 'rzvan28', 2146, 'e4,g6,d4,Bg7,c4,d6,Be3,Nf6,f3,c6,Ne2,Na6,Nec3,Qb6,Qd2,O-O,Na3,c5,d5,Nb4,h4,Nh5,g4,Ng3,Rg1,Nxf1,Kxf1,Nd3,b3,Qb4,Qxd3,Bxc3,Nc2,Qa5,Rd1,Bf6,a4,Qc3,Qxc3,Bxc3,h5,a6,Ke2,b5,axb5,axb5,Kd3,Bg7,cxb5,e6,h6,Bh8,Bg5,exd5,exd5,Bb7,Kc4,Ra2,Rg2,Re8,Re1', 'Rxc2+,Rxc2,Rxe1', 'https://lichess.org/training/8AOe0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Ap2w', 'Rapid', 'chukazo', 1847, 'gar1icbread', 1832, 'c4,e5,g3,Nf6,Nc3,Nc6,Bg2,Bb4,e3,Bxc3,bxc3,e4,Qc2,Qe7,Ne2,O-O,a4,Na5,d3,exd3,Qxd3,d6,O-O,Be6,Bd5,c6,Bxe6,Qxe6,Ba3,Qxc4,Rfd1,Rfd8,Bb4,Qxd3,Rxd3,Nc4,Rad1,d5,Nd4,Nb2,R3d2,Nxd1,Rxd1,Ne4,f3,Nf6,Kf2,Rac8,Nf5,Re8,Ne7+,Rxe7,Bxe7,Nd7,a5,f6,c4,Kf7,Ba3,Ke6,e4,dxe4', 'Rd6+,Ke7,Rxc6+,Kd8,Be7+,Kxe7,Rxc8', 'https://lichess.org/training/8Ap2w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8ApOC', 'Blitz', 'ironman04', 1983, 'NM Janou', 2304, 'e4,c6,d4,d5,exd5,cxd5,c3,Nc6,Nf3,Bf5,Bd3,Bxd3,Qxd3,e6,O-O,Nf6,Bg5,Be7,Nbd2,O-O,h3,Nd7,Bxe7,Qxe7,Rfe1,Rfc8,a3,Qf8,Nb3,Rab8,Qb5,h6,Na5', 'a6,Nxc6,axb5', 'https://lichess.org/training/8ApOC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Aq83', 'Rapid', 'erikvh', 1709, 'Caractacus', 1847, 'd4,d5,c4,e6,Nc3,Nf6,e3,Bb4,a3,Bxc3+,bxc3,O-O,Nf3,Nbd7,Bd3,b6,a4,Bb7,Ba3,Re8,O-O,c5,cxd5,Nxd5,Qc2,cxd4,cxd4,Rc8,Qb1,Nc3,Qb3,Bd5,Qb4,a5,Qd6,Nf6,Qe5,Nce4,Rac1,Ng4,Qh5,f5,Bxe4,Bxe4,h3,Bxf3,gxf3,g6', 'Rxc8,gxh5,Rxd8', 'https://lichess.org/training/8Aq83');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8AQga', 'Blitz', 'iWinEasy', 1577, 'carcassa', 1632, 'e4,e5,Nf3,Nc6,Bb5,d6,d3,Bd7,Be3,Nf6,Qd2,Be7,Bg5,O-O,h3,a6,Ba4,b5,Bb3,Rc8,Nc3,Re8,h4,Nd4,Ne2,c5,h5,c4,dxc4,bxc4,Nexd4,cxb3,Nxb3,Ba4,h6,Bxb3,axb3,Nxe4,Qe2,Nxg5,hxg7,Nxf3+,gxf3,Qd7,Qe4,f5,Qd5+,Kxg7,O-O-O,Bg5+,Kb1,h6,Rdg1,f4,Qe4,Qe6,Rxg5+,hxg5,Qh7+,Kf6', 'Rh6#', 'https://lichess.org/training/8AQga');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8asHh', 'Rapid', 'Hermonka', 1908, 'akmaldyant', 1949, 'd4,Nf6,Bf4,c5,e3,Nc6,Nf3,e6,c3,d5,Nbd2,c4,Be2,Be7,O-O,O-O,h3,b5,b3,h6,bxc4,bxc4,Ne5,Bd6,Nxc6,Qc7,Bxd6,Qxd6,Ne5,Nh7,h4,Qe7,Bf3,Qxh4,Ndxc4,Ba6,Re1,dxc4,Bxa8,Rxa8,Qa4,Bb7,Qxc4,Bd5,Qc7,Ng5,f4,Nh3+,gxh3', 'Qg3+,Kf1,Qg2#', 'https://lichess.org/training/8asHh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Avcz', 'Rapid', 'DORLISS', 1732, 'uk100', 1768, 'e4,e5,Nf3,Nc6,Bb5,d6,h3,Bd7,O-O,Nge7,c3,g6,d4,Bg7,Bg5,O-O,Qd2,a6,Ba4,b5,Bb3,Qc8,Bh6,a5,Bxg7,Kxg7,Qg5,b4,Nbd2,Rb8,dxe5,dxe5,Nxe5,f6,Qh4,fxe5,f4,exf4,Rxf4,Rxf4,Qxf4,Be6,Rf1,Bxb3,Qf6+,Kg8,axb3,Qf8', 'Qe6+,Kg7,Rxf8', 'https://lichess.org/training/8Avcz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8aW6A', 'Classical', 'hpord', 1686, 'MR3', 1770, 'e4,c5,Nf3,d6,h3,Nf6,Nc3,e6,Bc4,Be7,d3,a6,a3,O-O,O-O,Nc6,Ne2,d5,exd5,exd5,Ba2,b5,Ng3,Qb6,Bg5,h6,Be3,Qd8,Re1,Bb7,Bf4,Bd6,Ne5,Nxe5,Bxe5,Bxe5,Rxe5,Re8,Re1,Qc7,Nh5', 'Rxe1+,Qxe1,Nxh5', 'https://lichess.org/training/8aW6A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8AWvP', 'Blitz', 'achja', 2017, 'rusyali', 1663, 'e4,e5,Bc4,Nf6,Qf3,Bc5,Ne2,d6,h3,O-O,Nbc3,Be6,d3,Bxc4,dxc4,Nc6,Be3,Nb4,O-O-O,Bxe3+,fxe3,c6,g4,Nd7,Rxd6,Qc7,Rhd1,Nc5,a3,Nba6,Ng3,Ne6,Rd7,Qa5,Nh5,Nac5,Re7,b5,cxb5,cxb5,Nd5,b4,Nxb4,Rab8,Rd5,Rfc8,Qxf7+,Kh8,Rxa7,Qb6,Nxg7,Rf8,Qe7,Rf1+,Rd1,Rxd1+,Kxd1,Rd8+,Kc1,Nxe4,Nxe6,Qxe3+,Kb1,Rd1+,Ka2,Nc3+,Kb3,Nd5+,Nd3,Qb6+,Ka2', 'Nc3+,bxc3,Qb1#', 'https://lichess.org/training/8AWvP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8aYZH', 'Rapid', 'Amin001', 1820, 'LieBeerK', 1743, 'e4,e6,d4,d5,Nc3,Bd7,f4,c5,Nf3,Nc6,e5,Qb6,dxc5,Bxc5,Na4,Qa5+,c3,Be7,b4,Nxb4,cxb4,Qxb4+,Bd2,Qxa4,Qb1,Bc6,Bd3,O-O-O,Ke2,f6,Rc1,Kb8,a3,Rc8,Qb2,Bd8,Rc5,Bb6,Bb4,Bxc5,Bxc5,b6,Bd6+,Kb7,Nd4,fxe5,fxe5,Nh6,Rc1,Nf5,Nxe6,Nxd6', 'Nc5+,Ka8,Nxa4', 'https://lichess.org/training/8aYZH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8AZU5', 'Rapid', 'julianrey', 2068, 'LC777', 1754, 'e4,e6,Nf3,Nc6,d4,d5,Bd3,Bd6,e5,Be7,c3,f6,Nh4,fxe5,Qh5+,g6,Nxg6,Nf6,Qh3,Rg8,Nxe7,Qxe7,dxe5,Nxe5,O-O,Qg7,Bf4,Nxd3,Bg3,Ne4,Qh5+,Qg6,Qe2,Nf4,Qf3,e5,Re1,Bg4,Qe3,O-O-O,Qxa7,Ne2+,Kh1,N2xg3+,fxg3,Qb6,Qxb6,cxb6,Na3,Rgf8,Kg1,Bd7,Nc2,Bc6,Ne3,Nd2,Ng4,e4,b3,b5,Rad1,e3,Rxe3,d4,cxd4,Rxd4,Ree1,Rfd8,Ne3,h5,h3,Ne4,Rc1,Nxg3,Kh2,h4,Ng4,Rd2,Ne3,Rxa2,Rc5,Rdd2,Rec1,Rxg2+,Nxg2', 'Rxg2#', 'https://lichess.org/training/8AZU5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8B1BS', 'Blitz', 'Shakiro', 2144, 'jurisozi', 2188, 'e4,e6,Nf3,d5,exd5,exd5,h3,Bd6,d4,Nf6,Bd3,Ne4,O-O,O-O,c4,c6,Nc3,f5,Qb3,Kh8,Ne5,Nxc3,bxc3,Bxe5,dxe5,Nd7,Ba3,dxc4,Bxc4,Re8,e6,Ne5,e7,Qa5,Bf7,Nxf7,Qxf7,Bd7,Bb4,Qb5,Rad1,c5,Bxc5,Bc6,Bd4,Rg8,Rde1,Rae8,Re5,Qd3,Rxf5,Bb5,Qxg7+,Rxg7', 'Rf8+,Rxf8,exf8=Q#', 'https://lichess.org/training/8B1BS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8B2VW', 'Rapid', 'Valecita2711', 1614, 'thanos2008', 1796, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,Nxe4,O-O,Bxc3,bxc3,O-O,Bg5,Nf6,Re1,d5,Bb3,Bf5,h3,h6,Bh4,Qd7,Kf1,Rae8,Bxf6,Rxe1+,Qxe1,gxf6,Qe3,Kg7,Qd2,Re8,Re1,Bg6,Nh4,Rxe1+,Kxe1,Qe6+,Kf1,Na5,Bc2,Bxc2,Qxc2,Nc4,Nf5+,Kg6,Ng3+,Kg7,Nh5+,Kg8,Qd3,f5,Qg3+,Qg6,Nf6+,Kf8,Qh4,c6,Nd7+,Kg7,Qe7,f4,Qf8+,Kh7,Qe7,Qb1+,Ke2,Qc2+,Kf3,Qd3+,Kg4,Qg6+,Kf3,Nd2+,Kxf4,Ne4', 'Nf8+,Kg7,Nxg6', 'https://lichess.org/training/8B2VW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8B6AT', 'Rapid', 'Smyrnoff', 1746, 'redor', 1760, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,d6,Nc3,Bd7,h3,Be7,O-O,O-O,a3,a6,Ba4,Nd4,Bxd7,Nxd7,Nxd4,exd4,Nd5,c6,Nxe7+,Qxe7,Bf4,c5,Qg4,Kh8,Qg3,Ne5,Bg5,f6,Bd2,Rf7,f4,Ng6,Rae1,Raf8,h4,Qd7,h5,Ne7,f5,Rg8,Rf4,g6,hxg6,hxg6,Rh4+,Rh7,Kf2,gxf5', 'Rxh7+,Kxh7,Rh1#', 'https://lichess.org/training/8B6AT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8B7hW', 'Rapid', 'delvino', 1882, 'G3LC', 1950, 'e4,d6,d4,Nf6,Bd3,g6,Nf3,Bg7,h3,O-O,O-O,Nbd7,c4,c5,d5,Nh5,Nc3,Ne5,Nxe5,Bxe5,Be3,Bg7,Rb1,a6,Be2,Nf6,f4,Rb8,Qd2,b5,b3,b4,Na4,Nxe4,Qe1,Bf5,Rc1,e6,g4,Nc3,gxf5,Nxa4,bxa4,b3,axb3,Rxb3,Qf2', 'Rxe3,Qxe3,Bd4,Qxd4,cxd4', 'https://lichess.org/training/8B7hW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8bAyP', 'Blitz', 'hifo', 1608, 'ATARU70', 1522, 'e4,g6,c4,Bg7,d4,d6,Nc3,Nf6,Be3,O-O,Qd2,e5,Bh6,exd4,Bxg7,dxc3,Qh6,cxb2,Rb1,Ng4,Qf4,Kxg7,h3,Nf6,Rxb2,Re8,f3,Nc6,g4,Be6,h4,Nd4,h5,b5,hxg6,fxg6,Qh6+,Kh8,g5,Nh5,Rbh2,bxc4,Rxh5,Qd7', 'Qxh7+,Qxh7,Rxh7+,Kg8,Rh8+,Kf7,R1h7#', 'https://lichess.org/training/8bAyP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8BBUx', 'Rapid', 'kowariancja', 1681, 'ceemerson', 1669, 'g3,d5,Bg2,Nf6,d4,e6,Nc3,c5,dxc5,Bxc5,Bg5,h6,Bxf6,Qxf6,Nf3,Nc6,O-O,b6,e4,dxe4,Nxe4,Qe7,Nxc5,Qxc5,Re1,O-O,Ne5,Bb7,Bxc6,Bxc6,Nxc6,Qxc6,Qe2,a5,Rad1,Rfc8,a3,Qxc2', 'Rd8+,Rxd8,Qxc2', 'https://lichess.org/training/8BBUx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8bi05', 'Rapid', 'twistedsnake', 1942, 'Drorp', 1961, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Rg1,e5,Nb3,b5,a3,Be7,g4,Bb7,f3,Qb6,Rg2,Nfd7,Nd5,Bxd5,Qxd5,Nc6,Bd2,Nf6,Qd3,a5,O-O-O,b4,a4,Rc8,Be3,Qb7,g5,Nh5,Be2,Qc7,f4,Nxf4,Bxf4,exf4,h4,Ne5,Qd2,f3,Bb5+,Kf8,Rf2,h6,g6,f6,Nd4,Kg8,Ne6,Qb7,Qd5,Qxd5,Rxd5,Nxg6,Rxf3,Nxh4,Rg3,g5,Nd4,Ng6,Nc6,Kf7,Bc4,Ne5', 'Rxe5+,Kf8,Rxe7,Rxc6,Rf7+', 'https://lichess.org/training/8bi05');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8bIHp', 'Rapid', 'mohamed_nour11', 1799, 'Gorivet', 1755, 'e3,e5,Bc4,Bc5,Bxf7+,Kxf7,Qh5+,g6', 'Qxe5,Nf6,Qxc5', 'https://lichess.org/training/8bIHp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8BiQZ', 'Rapid', 'AdityaNarayan2117', 1819, 'Dilllashaw', 1839, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Be7,Bc4,Nf6,Nc3,c6,Nf5,O-O,Qf3,b5,Qg3,Nh5,Nh6+,Kh8,Nxf7+,Rxf7,Bxf7,Nxg3,hxg3,Bf6,Be3,Nd7,O-O-O,Bxc3', 'Rxh7+,Kxh7,Rh1+,Qh4,Rxh4#', 'https://lichess.org/training/8BiQZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8BLRT', 'Blitz', 'Lerroy', 1801, 'Laikers', 1804, 'c4,c5,Nc3,Nc6,e3,e5,Nf3,f5,d4,e4,Nd2,cxd4,exd4,Nxd4,Ndxe4,Ne6,Nd6+,Bxd6,Qxd6,Ne7,Be3,O-O,Bd3,Re8,Nd5,Nxd5,Qxd5,Qf6,Rb1,Kh8,Qxf5,Qxf5,Bxf5,Nc7,O-O,d5,Bxc8,Raxc8,cxd5,Nxd5,Bxa7,Ra8,Bc5,Rxa2,Ba3,Nf4,Rbe1,Rc8,Re7,b6,Rfe1,h6,Re8+,Rxe8,Rxe8+,Kh7,g3', 'Ra1+,Re1,Rxe1#', 'https://lichess.org/training/8BLRT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8bp2M', 'Rapid', 'philipperoy', 1864, 'kkalin', 1841, 'e4,d5,exd5,Qxd5,Nf3,Nf6,d4,e6,Nc3,Qd8,Bc4,a6,O-O,Be7,Be3,O-O,h3,b5,Bb3,Bb7,Qe2,Nc6,a4,Na5,axb5,Nxb3,cxb3,axb5,Rxa8,Qxa8,Rc1,b4,Nd1,Bxf3,Qxf3,Qxf3,gxf3,Nd5,Kg2,Ra8,f4,Bd6,Kf3,Kf8,Kg4,Ke7,Kf3,Kd7,Kg4,Ra2,h4,f5+,Kg5,Nf6,h5,Be7,Kh4,c6,f3,Nd5+,Kg3,Nxe3,Nxe3,Rxb2,Nc4,Rxb3,Ne5+,Ke8,Rxc6,Rc3,Rxe6,b3,Rb6,Bf6,Rb8+,Ke7,Rb7+,Kd6', 'Rd7+,Ke6,d5#', 'https://lichess.org/training/8bp2M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8BP6s', 'Rapid', 'aminm777', 1886, 'Rodz65', 1887, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f4,O-O,Nf3,Nbd7,Be2,e5,fxe5,dxe5,d5,a6,O-O,Nc5,Qc2,Re8,Bg5,Qd6,Bxf6,Bxf6,b4,Nd7,c5,Qf8,Bc4,Bg7,Rad1,c6,d6,b5,Be2,Ra7,Rb1,Nf6,a4,Ng4,Qd3,f5,h3,Nh6,exf5,Bxf5,Nd2,e4,Ndxe4,Bxc3,Qxc3,Rxe4,Bd3,Re3', 'Bc4+,bxc4,Qxe3', 'https://lichess.org/training/8BP6s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8BPcg', 'Rapid', 'Cheszenit', 1907, 'ondra765', 1908, 'e4,e6,d4,d5,Bd3,Nf6,Nd2,c5,c3,Nc6,Ne2,Qb6,a3,cxd4,cxd4,Bd7,O-O,Nxd4,Nxd4,Qxd4,Nf3,Qc5,Be3,Qc6,Rc1,Qd6,e5,Qe7,exf6,Qxf6,Bd4,Qe7,Ne5,f6,Nxd7,Qxd7,Re1,e5,Qb3,a6,Bb6,Be7,Rc7,Qe6,Qa4+,Kf7,Rec1,Qxb6,Qd7,Qd6,Qf5,Qe6,Qh5+,g6,Qh4,Kg7,Rxb7,Rac8,Rbc7,Rxc7,Rxc7,Rc8,Rc2,Rxc2,Bxc2,Qc6,Qa4,Qxa4,Bxa4,d4,Kf1,a5,Ke2,e4,f3,f5,Bc6,e3,Bb5,f4,Kd3,Bf6,Ke4,g5,Bc4,h6,b4,axb4,axb4,Bd8,Kf5,Bb6,Ke6,Kg6,Kd7,Kf6,Kc6,Bd8,b5,Ke5,b6,Bxb6,Kxb6,d3,Bxd3,Kd4,Ba6,Kc3,Kc5,Kd2,Kd4,e2,Bxe2,Kxe2,Ke4,Kf2,g3,Kg2', 'gxf4,gxf4,Kxf4', 'https://lichess.org/training/8BPcg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Bs6z', 'Classical', 'thomasfrom1993', 1730, 'chengiskhan1', 1745, 'd4,d5,c4,c6,e3,Nf6,h3,Bf5,Bd3,Bxd3,Qxd3,e6,Bd2,Bd6,Nf3,Nbd7,b4,dxc4,Qxc4,Ne4,Nc3,Nxd2,Nxd2,Nb6,Qe2,Bxb4,Rc1,O-O,O-O,Qf6,Nde4,Qg6,f4,Nd5,Nxd5,cxd5,Nc5,b6,Nd7,Rfc8,Ne5,Qe4,Kf2,Be7,Qh5,g6,Qe2,b5,Qxb5,Rc2+,Rxc2,Qxc2+,Kg3,Qxa2,Qd7,Qa3,Rf3,Rd8,Qb7,h5,Nc6,h4+,Kh2,Re8,Qxa7,Qd6,Ne5,g5,fxg5,Rf8,g6,f6,Qd7,fxe5,Rxf8+,Kxf8,Qc8+,Kg7,Qe8,exd4+,Kh1,dxe3', 'Qf7+,Kh6,Qh7+,Kg5,g7', 'https://lichess.org/training/8Bs6z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8bSZM', 'Rapid', 'chandu007', 1908, 'ShinKudo1', 1899, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Bc5,O-O,O-O,d3,h6,Be3,Bb6,Nd2,d6,Nb3,Be6,Nd5,Bxd5,Bxd5,Nxd5,exd5,Nd4,c4,Nxb3,axb3,a6,Bxb6,cxb6,f4,f6,fxe5,dxe5,d4,b5,dxe5,fxe5,Qe2,Qb6+,Kh1,Qd4,Rfd1,Qf4,Rac1,Rac8,c5,Rf5,d6,Rd8,Rg1,Qd4,Rgd1,Qf2,Rc2,Qf4,Rc3,e4,g3,Qe5,g4,Rf4,Re1,Qd5,h3,e3+,Kg1', 'Rf2,Qxf2,exf2+', 'https://lichess.org/training/8bSZM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8bTwG', 'Rapid', 'Joavelazquez', 1623, 'Hosay', 1780, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Bb5,Bd7,Bxc6,Bxc6,Ne2,Qb6,O-O,Ne7,b3,Nf5,Nd2,Be7,c4,O-O,cxd5,Bxd5,Ba3,Rfe8,dxc5,Bxc5,Bxc5,Qxc5,Rc1,Qe7,Nf4,Rac8,Nxd5,exd5,Re1,Qe6,Nf3,h6,Nd4', 'Rxc1,Nxe6,Rxd1', 'https://lichess.org/training/8bTwG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Bu7A', 'Rapid', 'ReFosc', 2169, 'marcotim321', 2233, 'Nf3,d5,d4,e6,c4,Nf6,g3,dxc4,Qa4+,Nbd7,Bg2,a6,Nc3,Rb8,Qxc4,b5,Qd3,b4,Na4,Bb7,Bf4,Bd6,O-O,Bxf4,gxf4,Bc6,Qc2,Be4,Qd1,O-O,Ne5,Bxg2,Kxg2,Nd5,e3,Nxe5,fxe5,Qh4,Nc5,Rbd8,Qf3,a5,Rfc1,c6,Qg3,Qh6,Nb7,Rd7,Nxa5,f6,Nxc6,fxe5,Nxe5,Ra7,a3,b3,Rc6,Nb4,Rc3,Nd5,Rxb3,Raa8,Rc1,Rf5,f4,Raf8,Rb7,Kh8,Rc6,g5,Nd7,Rg8,Ne5,gxf4,Qxg8+,Kxg8,Rc8+,Rf8,Rxf8+,Qxf8,e4,Ne3+,Kf3,Nc2,Nc6,Qa8', 'Rb8+,Qxb8,Nxb8', 'https://lichess.org/training/8Bu7A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8BU9d', 'Rapid', 'balous', 1882, 'receipt', 1610, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Qc7,Nc3,a6,Be3,b5,Be2,Bb7,f3,g6,Qd2,Bg7,O-O-O,e5,Nb3,Rd8,Nd5,Qb8,Nc5,d6,Nxb7,Qxb7,Bb6,Rd7,Be3,Nd4,g4,Nxe2+,Qxe2,Ne7,h4,Nxd5,Rxd5,O-O,h5,Qc6,hxg6,fxg6,Qh2,Bf6,g5,Bd8,f4,Bb6,Bd2,Rc8,c3,b4,Kb1,bxc3,Bxc3,Bd4,Bxd4,exd4,f5,gxf5,Rxf5', 'Qxe4+,Ka1,Qxf5', 'https://lichess.org/training/8BU9d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8bXSC', 'Rapid', 'gramo', 1799, 'HASSAN85', 1894, 'e4,e5,Nf3,Nc6,Nc3,Bc5,d3,d6,Be2,h6,O-O,Nf6,a3,O-O,b4,Bb6,Be3,Bd4,Bxd4,exd4,Nb1,Bg4,c3,Bxf3,Bxf3,Qe7,b5,Na5,cxd4,c6,Qd2,Nb3,Qa2,Nxa1,Qxa1,cxb5,Re1,a6,Nd2,Nd7,e5,dxe5,dxe5,Rab8,d4,Nb6,Ne4,Nc4,a4,b4,Rc1,b5,axb5,axb5,Nc5,Nd2,Bd5,Rbd8,Bb3,Rxd4,Qxd4,Nxb3,Nxb3,Rd8,Qa1,Qg5,Re1,h5,h3,Rd3,Qc1,Qh4,Re3,Rxe3,Qxe3,Qc4,Nd2,Qc1+,Nf1,Qd1,Qd2,Qb1,Qd8+,Kh7,Qg5,Qd1,Qf5+,Kg8,Qc8+,Kh7,Qc5,b3,Qxb5,Qc2,Ne3,Qc1+,Kh2,b2,Qd3+,g6,e6', 'b1=Q,Qxb1,Qxb1', 'https://lichess.org/training/8bXSC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8ByiT', 'Rapid', 'AaronC_25', 1908, 'Lexpert', 1933, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nxc3,dxc3,Be7,Bd3,O-O,O-O,Bg4,Qd2,Bxf3,gxf3,Bf6,Kh1,Nc6,Rg1,Ne5,Qf4,Nxd3,cxd3,d5,Be3,a5,Qg4,b6,Rg3,Qc8,Qh5,c6,Rag1,Re8,Rxg7+,Bxg7,Bd4,f6,Bxf6,Re1,Rxe1,Bxf6,Rg1+,Bg7,Qe5,Qd7,h4,Re8', 'Rxg7+,Qxg7,Qxe8+', 'https://lichess.org/training/8ByiT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8BymC', 'Classical', 'Ali_Igilik', 1672, 'dms2021', 1657, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Nf6,d3,Bc5,Be3,Bxe3,fxe3,d6,Qd2,Qe7,O-O,Be6,Nd5,Nxd5,exd5,Bd7,dxc6,Bxc6,Nxe5,dxe5,Rxf7,Qd6,Rxg7,Rf8,Rf1', 'Rxf1+,Kxf1,Qf6+,Qf2,Qxg7', 'https://lichess.org/training/8BymC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Bzfg', 'Classical', 'Sertindole', 1608, 'SilverJohn', 1616, 'e4,e5,Nf3,d6,Nc3,Nf6,d4,Bg4,Be2,Bxf3,Bxf3,exd4,Qxd4,Nc6,Qc4,Qe7,Nd5,Nxd5,Qxd5,O-O-O,Bg4+,Kb8,O-O,g6,f3,Bg7,c3,Ne5,Be3,Nxg4,fxg4,Rhf8,Bg5,f6,Bf4,f5,gxf5,gxf5,exf5,c6,Rfe1', 'Qxe1+,Rxe1,cxd5', 'https://lichess.org/training/8Bzfg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8C0aA', 'Blitz', 'frermax', 1752, 'BlitzTmy', 1676, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nd5,Bc5,Bg5,Be7,e5,Nxd5,Bc4,Nb6,Bxe7,Qxe7,Bb3,Nxe5,O-O,Nxf3+,Qxf3,O-O,Rfe1,Qg5,Re4,c5,Rae1,c4,Ba4,Nxa4,Re8,d5,h4,Qf5,Rxf8+,Kxf8', 'Qa3+,Nc5,Qxc5+,Kg8,Re8#', 'https://lichess.org/training/8C0aA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8C0NT', 'Blitz', 'Richard00405', 1884, 'Dallas_Golova', 2194, 'd4,d5,Bf4,c6,e3,Nf6,Nd2,g6,Bd3,Bf5,Bxf5,gxf5,c3,Nbd7,Qc2,e6,h3,Ne4,f3', 'Qh4+,g3,Nxg3,Bxg3,Qxg3+', 'https://lichess.org/training/8C0NT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8C1Xp', 'Blitz', 'onyongBKD', 2342, 'FM Renehp', 2341, 'g3,d5,Bg2,Nf6,c4,c6,cxd5,cxd5,d4,Nc6,Nc3,Bf5,Nf3,e6,O-O,Bd6,Bg5,h6,Bxf6,Qxf6,Qa4,O-O,Rae1,a6,Qd1,Rfc8,a3,Rc7,Qd2,Rac8,Nh4,Bh7,Rd1,Qe7,e4,dxe4,Bxe4,Rd7,Bxh7+,Kxh7,Ne4,Bb8,Nf3,Rcd8,Qd3,f5,Nc3,Nxd4,Nxd4,Rxd4,Qxd4,Rxd4,Rxd4,Ba7,Rd3,f4,Rfd1,fxg3,hxg3,Qf6,R1d2,Bb6,Kg2,Ba5,b4,Bb6,Ne4,Qe5,Re2,Qb5,Red2,Qc6,f3,e5,Rd6,Qb5,Kh3,Bd4,f4,Qf1+,Kg4,h5+,Kf5', 'Qh3+,g4,Qxg4#', 'https://lichess.org/training/8C1Xp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8C2GD', 'Rapid', 'TALIH17', 1648, 'Gfreeman1962', 1690, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,g6,d4,cxd4,Nxd4,Bg7,O-O,O-O,Re1,Qb6,Na4,Qc7,Bb3,Nc6,c3,Bd7,f3,a6,Bf4,b5,Nc5,Nxd4,cxd4,Bc8,Rc1,Qb6,e5,Nh5,Nd3,Qxd4+,Be3,Qh4,Bf2,Qg5,exd6,exd6,h4,Qd8,g4,Nf6,Bc2,Bb7,b3,Re8,h5,gxh5,g5,Nd5,Bh4,Qb6+,Kh2,Qd4,Kh3,Ne3,Bf2,Bc8+,Kg3,Nf5+,Kg2,Nh4+,Bxh4,Qxh4,Rxe8+,Bf8,Kf1', 'Bh3+,Ke2,Rxe8+', 'https://lichess.org/training/8C2GD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8c3Fn', 'Rapid', 'Raul_sanz', 1965, 'vlad3829', 2013, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,Nxd5,e4,Nxc3,bxc3,c5,Nf3,Nc6,Bb5,Bd7,O-O,cxd4,Nxd4,Nxd4,Bxd7+,Qxd7,cxd4,Rd8,Be3,g6,Qb3,Bg7,Rfd1,O-O,Rab1,b6,d5,exd5,Rxd5,Qe7,Qb4,Qxb4,Rxb4,Rxd5,exd5,Rd8,Rb5,f5,g3,Be5,a4,Bc3,Bf4,Kf7,Bc7,Rd7,d6,Ke6,f4,Bd4+,Kg2,Bc5,Rb3,Bxd6,Re3+,Kf7,Bxd6,Rxd6,Rc3,Rd7,Kf3,a6,Rc6,Rb7,Ke3,b5,Rxa6,b4,Kd4', 'b3,Ra7,Rxa7', 'https://lichess.org/training/8c3Fn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8c3SU', 'Blitz', 'Aintsay', 1557, 'mrtsmy', 1544, 'e4,c5,Nf3,d6,Nc3,Nf6,Bc4,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,e5,Qd1,h6,f4,Qb6,fxe5,dxe5,Qf3,Bb4,Bd2,Bg4,Qg3,Nxe4,Qxe5+,Be6,Bxe6', 'Qf2+,Kd1,Qxd2#', 'https://lichess.org/training/8c3SU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8c5Ds', 'Rapid', 'AhadUddinOntor', 1830, 'Kumbukani', 1840, 'd4,e6,Bf4,c6,e3,a5,Nf3,h6,Bd3,d5,Nbd2,Nd7,c3,c5,Qc2,cxd4,exd4,Ngf6,Ne5,Bd6,Ndf3,Qc7,O-O-O,Nb6,Bg6,fxg6,Qxg6+,Kd8', 'Nf7+,Qxf7,Qxf7', 'https://lichess.org/training/8c5Ds');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8cBg2', 'Rapid', 'Kim-Bog-Un', 1660, 'blackpanther200', 1620, 'e4,e5,Nf3,d5,exd5,e4,Qe2,f5,d3,Nf6,Bg5,Be7,Bxf6,Bxf6,dxe4,fxe4,Qxe4+,Kf7,Nc3', 'Re8,O-O-O,Rxe4', 'https://lichess.org/training/8cBg2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8cciK', 'Rapid', 'Duende63', 1673, 'JanSousa', 1691, 'd4,d5,Bf4,Nf6,e3,Nc6,Nf3,Bf5,c3,e6,h3,Be7,Nbd2,Qd7,g4,Bg6,Nh4,O-O-O,Nxg6,hxg6,Bb5,Nxg4,Qxg4,f5,Qe2,g5,Be5,Bf6,O-O-O,Bxe5,dxe5,g4,hxg4,a6,Bd3,Nxe5,gxf5,Nxd3+,Qxd3,Rxh1,Rxh1,exf5,f4,c5,Nf3,c4,Qd4,Qa4,Kb1,Rd6,Ne5,Rh6,Rd1,Rh2,Qxd5', 'Qc2+,Ka1,Qxb2#', 'https://lichess.org/training/8cciK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8ci0h', 'Rapid', 'Asigno', 1682, 'FERNANDOMEJIA_UNAP', 1635, 'd4,Nf6,Nc3,e5,dxe5,Ng8,f4,h6,Nf3,Nc6,e3,d6,Bb5,Bd7,Bxc6,Bxc6,O-O,dxe5,Nxe5,Nf6,Nxc6,bxc6,b3,Bd6,e4,Nd7,Bb2,Bc5+,Kh1,O-O,Na4,Bb6,Nxb6,axb6,Qg4,f6,e5,Qe7,exf6,Nxf6,Bxf6,Rxf6,Rae1,Qf7,g3,Rxa2,Qc8+,Kh7,Re8,Rxc2', 'Rh8+,Kg6,Qg4#', 'https://lichess.org/training/8ci0h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8cK88', 'Rapid', 'Pianist88', 1822, 'Tarzan5', 1726, 'd4,e6,c4,d5,Nc3,Bb4,e3,Nf6,a3,Bxc3+,bxc3,O-O,Nf3,Ne4,Bb2,Nc6,cxd5,exd5,Bd3,f5,c4,Be6,cxd5,Bxd5,O-O,Qf6,Qc2,Rad8,Bc4,Ng5,Nxg5,Qxg5,Bxd5+,Rxd5,Qc4,Rd8,Rfe1,Kh8,f3,h6,e4,fxe4,fxe4,Nxd4,exd5,Nf3+,Kf1', 'Nd2+,Kg1,Nxc4', 'https://lichess.org/training/8cK88');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8cK8b', 'Rapid', 'bogdan-lviv', 1860, 'imameddin17', 1844, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bg5,Be7,h3,O-O,Bd3,c6,O-O,h6,Bh4,Ne4,Bxe7,Qxe7,Re1,Bf5,Nbd2,Re8,Ne5,c5,Nxe4,dxe4,Bxe4,Bxe4,Rxe4,f6,Qh5,Nc6,d5,Nxe5,f4,Nf3+,gxf3,Qd7,Rae1,Rxe4,fxe4,Qb5,b3,c4,Re2,cxb3,axb3,Qc5+,Kh1,Qd4,Rg2,Qxe4,Qxh6', 'Qxg2+,Kxg2,gxh6', 'https://lichess.org/training/8cK8b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Ckom', 'Blitz', 'alixxxx', 1520, 'Stoeckl92', 1612, 'e4,e5,Bc4,Nf6,Bxf7+,Kxf7,d3,Bc5,Nf3,Rf8,Nxe5+,Kg8,Be3,Bxe3,fxe3,d6,Nf3,Bg4,O-O,Nc6,Nbd2,Qd7,c3,Rf7,Qb3,Rf8,Qxb7,Kh8,b4,Ne5,Nxe5,dxe5,Qxa7,Qxd3,Nb1,Nxe4,Rxf7', 'Qd1+,Rf1,Qxf1#', 'https://lichess.org/training/8Ckom');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8clEs', 'Blitz', 'voitsitskiy', 1685, 'silent_thunder', 1681, 'e4,e5,Bc4,Nc6,c3,Nf6,Qb3,Nxe4,Bxf7+,Ke7,d3,Nc5', 'Bg5+,Kd6,Qd5#', 'https://lichess.org/training/8clEs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8ClNc', 'Rapid', 'Peteris44', 1971, 'Arturroma', 1771, 'd4,d5,c4,c6,Nc3,b6,e3,a6,Qb3,Bb7,cxd5,cxd5,Nf3,e6,Bd3,Be7,Ne5,Nf6,O-O,O-O,Bd2,Nc6,Rac1,Rc8,Na4,b5,Nc5,Qb6,Qd1,Rfd8,b4,Nxe5,dxe5,Nd7,Qc2,Nxc5,bxc5,Rxc5,Bxh7+,Kf8,Qd3,Rxc1,Rxc1,g6,Bxg6,fxg6,Qxg6,Rc8,e4,Rxc1+,Bxc1,dxe4', 'Bh6#', 'https://lichess.org/training/8ClNc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8CoP2', 'Rapid', 'Ahmed_El_Shahawy', 1790, 'amithrain', 1740, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,e5,d4,Nc6,dxe5,Nxe5,Bxd5,Be6,Bxb7,Qxd1+,Kxd1,Rd8+,Bd2,Nf6,Nc3,Rb8,Ba6,Rxb2,Bb5+,Kd8,Ba4,Bb4,Bb3,Ke7,Na4,Bxb3,axb3,Bxd2,Kxd2,Rd8+,Kc1,Rxc2+,Kxc2,Ne4,Nh3,Rd2+,Kc1', 'Nd3+,Kb1,Nc3+,Nxc3,Rb2#', 'https://lichess.org/training/8CoP2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8CPCG', 'Classical', 'adekusara', 1839, 'bebutron', 1843, 'd4,d5,e3,Nf6,c4,e6,a3,Be7,b4,Nbd7,Bb2,dxc4,Bxc4,b6,Nf3,c5,dxc5,bxc5,bxc5,Qa5+,Bc3,Qxc5,Be2,O-O', 'Bb4,Qd5,Bxe7', 'https://lichess.org/training/8CPCG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Cpts', 'Rapid', 'kmitch92', 1911, 'Madlenka', 1891, 'e4,d6,Nf3,Nf6,Nc3,g6,d3,Bg7,Bg5,O-O,Qd2,Bg4,O-O-O,Nc6,h3,Bxf3,gxf3,Nd4,Be2,Nd7,h4,Ne5,f4,Nef3,Bxf3,Nxf3,Qe3,Nxg5,hxg5,f6,Rh2,Kf7,Rxh7,c6,Rdh1,Qd7,Qg3,Rh8,gxf6,exf6,f5,g5,Qh3,Rxh7,Qxh7,Rh8,Qg6+,Kf8,Rxh8+,Bxh8,Ne2,Qf7,Qh6+,Bg7,Qh2,Ke7,Nd4,Qxa2,c3,Qa1+,Kc2,Qa4+,Nb3,c5,c4,b5,cxb5', 'c4,dxc4,Qxc4+', 'https://lichess.org/training/8Cpts');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8CSwH', 'Rapid', 'CuteTacticz', 1730, 'sarthak1235', 1758, 'e4,e6,d4,d6,Nf3,h6,b3,g6,Bb2,Bg7,e5,dxe5,Nxe5,Nd7,Nc4,Ne7,Qf3,O-O,Bd3,c5,c3,cxd4,cxd4,Nd5,Nbd2,Nb4,O-O,Nxd3,Qxd3,Nb6,Nxb6,Qxb6,Nf3,Qc6,Ne5,Qd5,Rfe1,Rd8,Rac1', 'Bxe5,Rxe5,Qxe5', 'https://lichess.org/training/8CSwH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8CUf6', 'Rapid', 'iraj_jalali', 1809, 'Gkmen9', 1825, 'e4,e5,Nf3,Nh6,Bc4,Nc6,Nc3,Bb4,d3,Nd4,Nxe5,d6,Bxh6,dxe5,Bxg7,Rg8,Bxe5,c5,g3,Qg5,Bxd4,cxd4,a3,Bxc3+,bxc3,dxc3,Qf3,Qd2+,Kf1,Be6,Bb5+,Bd7,Bc4,Be6,Bxe6,fxe6,Qf6,Rg6,Qh8+,Kf7,Qxa8,Qxc2,Qxb7+,Kf6,Qd7,Qb2,Kg2,Rg7,Qd8+,Kg6,e5,Rf7,Qg8+,Rg7,Qxe6+,Kh5,Qf5+,Kh6,g4,Qb7+,Kh3,Rg5,Qf6+,Rg6,Qh4+,Kg7,Rab1', 'Qf3+,Qg3,Rh6#', 'https://lichess.org/training/8CUf6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8CUFv', 'Blitz', 'jp62', 1736, 'nicmart', 1726, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nxc3,bxc3,Nc6,d4,Be7,h3,h6,Bd3,O-O,O-O,f5,Rb1,Qe8,c4,a5,Bb2,Nb4,d5,Bf6,Bxf6,Rxf6,a3,Na6,Nd4,Nc5,Re1,Qg6,Kh2,Ne4,Bxe4,fxe4,Qe2,Bf5,Nxf5,Qxf5,Rxb7,Raf8,Rxc7,Qe5+,Kh1,Rxf2,Qxe4,Qg3,Re7', 'Rf1+,Rxf1,Rxf1#', 'https://lichess.org/training/8CUFv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8CuWs', 'Blitz', 'njwan', 1617, 'Rajibnaw', 1689, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Qf6,Nc3,h6,Bb5+,Bd7,Nd5,Qd8,Ne6,fxe6', 'Qh5+,g6,Qxg6#', 'https://lichess.org/training/8CuWs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8CVDO', 'Blitz', 'Nerisvic', 1699, 'dapardox', 1743, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,Bg5,Bb4,Bd2,Nc6,Nxc6,dxc6,Qf3,b5,O-O-O,Bb7,Kb1,c5,Bf4,Qb6,Ne2,c4,Be5,f6,Bd4,Qc6,Qg3,e5,Qxg7,O-O-O,Qxh8,exd4,Qxh7,d3,cxd3,cxd3,Nf4', 'Qc2+,Ka1,Qxd1#', 'https://lichess.org/training/8CVDO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Cvkv', 'Blitz', 'victor321alex', 1800, 'luisjhoana', 1939, 'e4,e5,Nf3,Nf6,Nxe5,Bc5,d4,Bb6,Bc4,Qe7,Nxf7,Qb4+,Nd2,d5,c3,Qe7,Nxh8,dxc4,e5,Nd5,Qh5+,g6,Nxg6,hxg6,Qxg6+,Qf7,Qxf7+,Kxf7,Nxc4,c5,Nd6+,Kg6,Nxc8,cxd4,Nxb6,axb6,cxd4,Nc6,h4,Nxd4,O-O,Rh8,Be3', 'Ne2+,Kh1,Rxh4#', 'https://lichess.org/training/8Cvkv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8CW1K', 'Rapid', 'Mmn7', 1820, 'Worth_It', 1712, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d5,Bb5,dxe4,Bxc6+,bxc6,Nxe5,Qd5,Bf4,g6,O-O,Bg7,Nc3,Qd4,Nxc6,Qb6,Ne5,Qxb2,Nxe4,Nxe4,Nc4,Qxa1,Qf3,Qf6', 'Qxe4+,Qe6,Qxa8', 'https://lichess.org/training/8CW1K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8cwfp', 'Blitz', 'wingchun', 2268, 'TheConsolidator', 2063, 'e4,g6,Nf3,d6,d4,Bg7,h3,Nf6,Nc3,O-O,Be2,e5,d5,Nbd7,O-O,h6,Be3,Nh7,Qd2,g5,Nh2,f5,exf5,Rxf5,Bg4,Rf8,Be6+,Kh8,Bxd7,Bxd7,Ne4,Nf6,f3,Nxe4,fxe4,Qe7,Qe2,Rxf1+,Rxf1,Rf8,c4,a6,b3,Kh7,g4,Rf4,Bxf4,exf4,Nf3,h5,Qg2,h4,Qe2,b5,Re1,bxc4,bxc4,Qf6,e5,dxe5,Qxe5', 'Qb6+,Kg2,Bxe5', 'https://lichess.org/training/8cwfp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8CwwC', 'Rapid', 'Andro81UA', 1730, 'nekitmeister', 1723, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Bd3,e6,Nf3,Nd7,c3,Ngf6,Qc2,Bg6,Nxf6+,Nxf6,Ne5,Bxd3,Qxd3,Be7,O-O,O-O,Re1,c5,Be3,b6,dxc5,bxc5,Qe2,Rc8,Rad1,Qc7,Bf4,Qb6,Bg5,Rfd8,Ng4,Rxd1,Rxd1,Rd8,Bxf6,Bxf6,Nxf6+,gxf6,Qg4+,Kf8,Rxd8+,Qxd8,g3,Qb6,b3,f5,Qf4,Qa5,b4,Qxa2,Qd6+,Kg7,bxc5,Qa1+,Kg2,Qxc3,c6,Qc2,Qe5+,Kf8,c7,Ke7,h4,Kd7,Qd4+,Kc8', 'Qd8+,Kb7,Qb8+', 'https://lichess.org/training/8CwwC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8czsa', 'Blitz', 'GitProphet', 1559, 'crdylan', 1661, 'd4,Nf6,Bf4,g6,e3,Bg7,h3,O-O,c4,d6,Nf3,Nc6,Nc3,e5,dxe5,dxe5,Qxd8,Rxd8,Nxe5,Nh5,Nxc6,bxc6,Bxc7,Rd7,Bh2,Bb7,Be2,c5,Rc1,Bxg2,Rg1,Bc6,Bxh5,gxh5,Rg5,Rad8,Rxc5,Bf3,Rf5', 'Bxc3+,bxc3,Rd1+,Rxd1,Rxd1#', 'https://lichess.org/training/8czsa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8d3NW', 'Rapid', 'Creative_Username', 1836, 'Deepaksoni', 1913, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nb6,Nf3,e6,Be3,Be7,Be2,O-O,O-O,Bd7,Nc3,c6,Rc1,Na6,Bxa6,bxa6,Ne5,Bf6,Nxd7,Nxd7,Na4,Qa5,Rxc6,Rab8,Bd2,Qd8,Rxa6,Nb6,Nxb6,axb6,e5,Bh4,Qg4,f5,exf6,Bxf6,Be3,e5,Qe6+,Kh8,dxe5,Re8,Qc6,Bxe5,Bxb6,Qh4,h3,Bxb2,Rb1,Qf4,Bc7,Be5,Bxb8,Qh2+,Kf1,Qh1+,Ke2,Bxb8+,Kf3,Rf8+,Ke2,Qxb1,Ra8,Qb2+,Kd3,Rd8+,Kc4,Qc2+,Kb5,Qd3+,Kb6,Qd4+,Kb7,Be5', 'Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/8d3NW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8D876', 'Blitz', 'mmoh123', 2457, 'FM coventry', 2384, 'd4,Nf6,c4,c5,d5,b5,Nf3,d6,cxb5,a6,b6,Nbd7,a4,Nxb6,Nc3,a5,e4,g6,Be2,Bg7,O-O,O-O,Bf4,Ba6,Nd2,Bxe2,Qxe2,Qc7,Ndb1,Rfb8,Na3,Ne8,Nab5,Qb7,Bg5,Nc7,Kh1,Nxb5,Nxb5,Nxa4,Rxa4,Qxb5,Qxb5,Rxb5,Bxe7,Ra6,g3,Rxb2,Kg2,Bc3,g4,h6,Kg3,Kg7,f4,Bb4,e5,c4,Bf6+,Kf8,e6,c3,Rc1,Rb3,g5,h5,Ra2,fxe6,dxe6,d5,Re2,Rc6,f5,gxf5,g6,Be7', 'g7+,Kg8,Bxe7', 'https://lichess.org/training/8D876');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8d89B', 'Rapid', 'ayodeji05', 1726, 'falke_1997', 1746, 'e4,c5,Bc4,Nc6,Nf3,d6,Ng5,Nh6,Nf3,Ng8,d4,cxd4,Nxd4,g6,Nxc6,bxc6,Qf3,e6,O-O,Bg7,c3,Nf6,Bg5,h6,Bxf6,Bxf6,Nd2,O-O,Rad1,d5,exd5,cxd5,Bd3,Bb7,Qg3,Bh4,Qf4,Bg5,Qg4,Rb8,f4,Bf6,Rf3,d4,Rh3,Kh7,Nf3,dxc3', 'Bxg6+,fxg6,Rxd8', 'https://lichess.org/training/8d89B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8dAAx', 'Rapid', 'muc4hid', 1875, 'MAGAMEDOV', 1877, 'e4,b6,d4,Bb7,Nc3,e6,Bc4,Nf6,Bg5,h6,Bh4,g5,Bg3,Nxe4,Nxe4,Bxe4,f3,Bb7,Qd2,Qf6', 'Be5,Qe7,Bxh8', 'https://lichess.org/training/8dAAx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8DCXE', 'Blitz', 'intelin', 1862, 'fuzzmaster', 1743, 'Nf3,f5,d4,Nf6,c4,e6,Nc3,Bb4,Bd2,O-O,a3,Bxc3,Bxc3,Ne4,e3,Nxc3,bxc3,b6,Bd3,Bb7,O-O,Qe8,Ne5,d6,Nf3,e5,dxe5,dxe5,Bc2,c5,Qe2,Qe7,Rfd1,e4,Nd2,Nc6,Nf1,Rad8,Ng3,Ne5,a4,Ba6,Bb3,Rd3,Rxd3,Nxd3,Qh5,Qe6,a5,g6,Qh6,Bxc4,Bxc4,Qxc4,axb6,Qxc3,Rxa7', 'Qe1+,Nf1,Qxf2+,Kh1,Qxf1#', 'https://lichess.org/training/8DCXE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8DESJ', 'Classical', 'OlekKogut2013', 1803, 'fredhont', 1860, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,Bg5,Be7,Nf3,O-O,Bd3,Re8,O-O,Bg4,h3,Be6,Re1,Qc8,Bb5,c6,Bd3,Bxh3,gxh3,Qxh3,Bxf6,Qg4+,Kf1,Qh3+,Kg1,Qg4+,Kf1,gxf6,Nh2,Qh3+,Kg1,Nd7,Qg4+,Qxg4+,Nxg4,h5,Nh6+,Kg7,Rxe7,Rxe7,Nf5+,Kf8,Nxe7,Kxe7,Re1+,Kd6,Be2,h4,Bg4', 'Rg8,Kh2,Rxg4', 'https://lichess.org/training/8DESJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8dG4w', 'Classical', 'Lavanya_Balu', 1706, 'thazem', 1702, 'e4,Nf6,d3,e5,Nf3,Nc6,c3,d5,exd5,Qxd5,Nbd2,Bf5,Be2,O-O-O,O-O,Bd6,d4,e4,Bc4,Qa5,Nb3,Qa4,Ng5,Rhf8,Bxf7,h6,Ne6,Bxe6,Bxe6+,Kb8,d5,Ne5,Bf4,e3,Bxe5,Bxe5,fxe3,Rde8,Qd3,Qh4,h3,Ng4,Bxg4,Rxf1+,Rxf1,Qg3,Nc5,Qh2+,Kf2,Rf8+,Ke2', 'Qxg2+,Kd1,Rxf1+,Qxf1,Qxf1+', 'https://lichess.org/training/8dG4w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Dih1', 'Classical', 'Tolkunov', 1618, 'engine_detector', 1741, 'd4,Nc6,c4,e5,e3,Nf6,Nc3,Bb4,Ne2,O-O,d5,Ne7,a3,Bxc3+,Nxc3,d6,e4,Ng6,Bg5,h6,Bxf6,Qxf6,Be2,Nf4,O-O,Qg5,g3,Bh3,Re1,h5,Kh1,g6,Bf3,Bg4,gxf4,Qxf4,Bxg4,hxg4,Qe2,Kg7,Rg1,Rh8,Rg2,Rh3,Qxg4', 'Rxh2+,Rxh2,Qxg4', 'https://lichess.org/training/8Dih1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8DIvf', 'Blitz', 'Giulianas_Warrior', 1982, 'Hirngespinst', 2012, 'e4,c5,c3,d5,exd5,Qxd5,d4,cxd4,cxd4,Nf6,Nc3,Qa5,Nf3,e6,Ne5,Nc6,Bb5,Bd7,Nxd7,Nxd7,d5,Nce5,dxe6,fxe6,Bf4,a6,Ba4,b5,Bxe5,Nxe5,Bb3,Nc4,Qe2,Qb6,Bxc4,bxc4,Qxc4,Bc5,O-O,O-O,Na4,Bxf2+,Kh1,Qd4,Qxe6+,Kh8,Nc3,Rf6,Qe4,Qd8,Rad1,Qb8,Qe7', 'Qxh2+,Kxh2,Rh6+,Qh4,Rxh4#', 'https://lichess.org/training/8DIvf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8dlWd', 'Rapid', 'Tzehan', 2152, 'Desmantelador', 2149, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Bd6,O-O,O-O,c3,Bg4,Nbd2,c6,Qc2,Bh5,b3,Re8,Bb2,Bg6,Bxg6,hxg6,Rfe1,Nbd7,c4,Qc7,Rad1,Bf4,h3,Bd6,a4,a5,Bc3,b6,Bb2,Bb4,Bc3,Bxc3,Qxc3,Ne4,Nxe4,dxe4,Nd2,f5,Qe3,f4,Qc3,Nf6,c5,Nd5,Qc4,e3,fxe3,fxe3,Nf3,bxc5,dxc5,Qg3,Re2,Kh8,Nh4,Nf4', 'Qxf4,Qxf4,Nxg6+,Kh7,Nxf4', 'https://lichess.org/training/8dlWd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8DmeM', 'Rapid', 'Teym-Almohammad', 1842, 'jessepags', 1832, 'e4,e5,Bc4,Nf6,Qf3,b6,d3,Bb7,Ne2,Bc5,a3,O-O,O-O,d5,Ba2,dxe4,dxe4,Bxe4,Qg3,Qe7,b4,Bd6,c4,c5,Nbc3,cxb4,axb4,Bxb4,Bg5,Bb7,Nd5,Bxd5,cxd5,h6,Bxh6,Nh5,Qg4,Qf6,Qxh5,Qxh6,Qxe5', 'Bd6,Qxd6,Qxd6', 'https://lichess.org/training/8DmeM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8DQm6', 'Blitz', 'Maksimzt', 2415, 'FM molodoiataker', 2565, 'c4,c6,g3,d5,cxd5,cxd5,Nf3,Nf6,Bg2,Nc6,O-O,e5,d4,e4,Ne5,Bd6,Bf4,O-O,Nc3,Be6,Rc1,Rc8,Nb5,Bb8,Nxc6,bxc6,Bxb8,cxb5,Bxa7,Nd7,Qb3,Qa5,Bc5,Nxc5,dxc5,Rc6,a3,Rfc8,Qb4,Qc7,Qxb5,Rb8,Qa4,Rxb2,Rb1,Rxb1,Rxb1,h5,f3,e3,Qd4,Rxc5,Qxe3,Rc3,Qg5,Rxa3,Qxh5,Ra2,f4,g6,Qf3,Bf5,Rd1,Be4,Qe3,Qc2,Re1,Ra4,Bxe4,Rxe4,Qf3,Qc5+,Kf1,Qc4,Rd1,Qc2,Qd3,Qxd3,Rxd3,d4,Kf2,f5,Kf3,Kf7,h3,Ke6,g4,Kd5,gxf5,gxf5,h4,Kc4,h5,Re7,Rd1,Kd5,Rh1,Re3+,Kf2,Re8,h6,Rh8,h7,Ke4,Kg3,Ke3,Kh4,Kxe2', 'Kg5,Kf3,Kxf5', 'https://lichess.org/training/8DQm6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8DqnH', 'Blitz', 'quique1990', 1531, 'scardaccione', 1680, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Bd3,Nf6,c3,Bxe4,Bxe4,Nxe4,Nf3,Nf6,O-O,e6,Bg5,Be7,Ne5,Nbd7,Re1,O-O,Re3,h6,Bxh6,Nxe5,Rxe5,gxh6,Qf3,Kh7,Qh3,Ng8,Rh5,f5,Re1,Qd7,Re3,Rf6,Kf1,Raf8,g4,fxg4,Qxg4,Rxf2+,Ke1,Rf1+,Kd2,R1f5,Rg3,Bg5+,Kc2,Qe7,h4,Nf6,Rxh6+,Kxh6,hxg5+,Kh7,Rh3+,Kg7', 'gxf6+,Kxf6,Rh6+,Kf7,Qg6#', 'https://lichess.org/training/8DqnH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8drzO', 'Blitz', 'NM Chesspirate_Channel', 2376, 'Mykingislonely', 2535, 'd4,d5,Nc3,Nf6,e4,dxe4,f3,exf3,Nxf3,g6,Bd3,Bg7,Bg5,O-O,Qd2,Nc6,Ne2,Bg4,c3,Bxf3,gxf3,e5,O-O-O,exd4,Qf4,dxc3,Nxc3,Qd6,Qh4,Qb4', 'Bxf6,Bxf6,Qxf6', 'https://lichess.org/training/8drzO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8dvem', 'Rapid', 'rutger886', 1534, 'SilverStar13', 1559, 'd4,d5,c4,dxc4,e3,Nf6,Bxc4,c6,Nc3,e6,b3,Bb4,Bd2,O-O,a3,Bxc3,Bxc3,b5,Bd3,Nd5,Qd2,Nxc3,Qxc3,f5,Nf3,Nd7,Qxc6,Rb8,Bxb5', 'Qa5+,b4,Qxb5,Qxb5,Rxb5', 'https://lichess.org/training/8dvem');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8DWsi', 'Rapid', 'taliban_of_ikeja', 1956, 'all4prof', 1707, 'd4,Nf6,Nf3,g6,Bg5,d5,e3,Bg7,Bd3,O-O,Nbd2,c5,c3,cxd4,exd4,a6,O-O,Nc6,Re1,Bg4,h3,Bxf3,Nxf3,Qb6,Qe2,Rfe8,Rab1,Qc7,Ne5,Nh5,Bd2,Rac8,f4,Ng3,Qg4,Ne4,Bxe4,dxe4,Rxe4', 'f5,Qf3,fxe4', 'https://lichess.org/training/8DWsi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8dXSE', 'Rapid', 'smithoscar', 1875, 'sarracinu', 1796, 'd4,d5,Nf3,Nf6,Bf4,Nc6,e3,e6,c4,Bd6,Bg3,Bxg3,hxg3,Ne4,Nfd2,Nxd2,Nxd2,Qe7,a3,Bd7,cxd5,exd5,Bd3,O-O-O,Kf1,g6,Rc1,h5,Qc2,h4,g4,Bxg4,Ba6,bxa6,Qxc6,Qd6,Qa4,h3,g3,h2,Rc6,Bd7', 'Qxa6+,Kb8,Rxd6', 'https://lichess.org/training/8dXSE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8dZHd', 'Blitz', 'SePehr15', 2162, 'saeedbarjaste', 1806, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,a6,d4,Bg4,Be2,h6,h3,Bxf3,Bxf3,c6,O-O,Nd7,d5,Qc8,dxc6,bxc6,Re1,e6,Bf4,Bb4,Bd6,Bxd6,Qxd6,Nb8,Rad1,Ne7,Ne4,Ra7,Qc5,Rd7,Nd6+,Rxd6,Qxd6,Nf5,Rxe6+,fxe6', 'Bh5+,g6,Bxg6#', 'https://lichess.org/training/8dZHd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8E3cT', 'Rapid', 'Kings-indian100', 1935, 'marik26', 1909, 'e4,e6,d4,a6,f4,h6,Nf3,Nc6,Bd3,Nf6,O-O,Bb4,c3,Ba5,Nbd2,Bb6,Nc4,Ba7,e5,Nd5,f5,exf5,Bxf5,Nce7,Be4,d6,exd6,cxd6,Re1,O-O,Ne3,f5,Bxd5+,Nxd5,Nxd5,Bd7,Bf4,Bc6,Ne7+,Kh7,Nxc6,bxc6,Qa4,Rf6,Qxc6,Rb8,b3,a5,Re2,Rc8,Qa6,Qc7,c4,g5,Nxg5+,hxg5,Bxg5', 'Bxd4+,Kf1,Bxa1,Bxf6,Bxf6', 'https://lichess.org/training/8E3cT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8EAjB', 'Classical', 'ASDCentralPark86', 1885, 'DanilSTOLYAROV', 1971, 'c4,e5,g3,d6,Bg2,Nc6,Nc3,Nf6,e3,Be6,b3,Be7,Nge2,O-O,O-O,Bg4,h3,Bh5,d4,exd4,exd4,Re8,Qd2,Bf8,Bb2,Bg6,Nf4,Ne4,Nxe4,Bxe4,Rae1,Bxg2,Rxe8,Qxe8,Kxg2,Qe4+,f3,Qe8,Re1,Qd7,Nd5,Ne7,Nxe7+,Bxe7,Qe2,Bf6,d5,Bxb2,Qxb2,Re8,Qd2,Re7,Re3,f6,Qe2,Kf7,Rxe7+,Qxe7,Qxe7+,Kxe7,Kf2,f5,Ke3,Kf6,f4,a5,Kd4,g5,Ke3,h5,Kf3,g4+,Kg2,Ke7,h4,Kd7,Kf2,c6,Ke3,cxd5,cxd5,Kc7,Kd4,Kb6,a3', 'Kb5,Kc3,Kc5', 'https://lichess.org/training/8EAjB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Ebhx', 'Blitz', 'mig111', 1760, 'Moycr', 1762, 'd4,Nf6,c4,e6,a3,d5,c5,Be7,b4,O-O,f3,b6,e3,bxc5,bxc5,c6,Qa4,Bd7,Bd2,Qc7,Bd3,e5,Nc3,exd4,exd4,Be6,Nge2,Nbd7,Kf2,Ne8,Rab1,Qd8,Rb2,Nc7,Ra2,Nb5,Nxb5,cxb5,Bxb5,Nf6,Rb1,Qc7,g3,Bxc5,dxc5,Qxc5+,Be3,d4,Bxd4,Qh5,h4,Nd5,Rc2,f5,Rc5,f4,Nxf4,Rxf4,gxf4,Qxh4+,Ke2,Nxf4+,Kd2,Qh2+,Kc3,Nd5+,Rxd5,Bxd5,Rb2,Rc8+,Kd3,Qf4,Re2,Qxf3+,Re3,Qf5+,Ke2,Rc2+,Ke1', 'Qf2+,Kd1,Qd2#', 'https://lichess.org/training/8Ebhx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8EC9L', 'Rapid', 'Jiravich', 1917, 'fisht69', 1936, 'd4,Nf6,Bf4,e6,h3,Be7,e3,O-O,c4,Ne4,Nc3,Nxc3,bxc3,d6,Nf3,Nd7,Bd3,c5,Qc2,Nf6,Rb1,b6,O-O,Bb7,Ng5,h6,Ne4,Nxe4,Bxe4,Bxe4,Qxe4,Qd7,Rb5,Rab8,Rfb1,f5,Qd3,Rbd8,e4,Bf6,Rd1,Qe7,exf5,exf5,Rbb1,g5,Bd2,Qe4,Qxe4,fxe4,Be3,Rc8,Rdc1,Rc6,a4,Rfc8,a5,cxd4,cxd4,Rxc4,Rxc4,Rxc4,axb6,axb6,Rxb6,Bxd4,Rxd6,Bxe3,fxe3,Kg7,Rd4,Rxd4', 'exd4,Kf6,Kf2', 'https://lichess.org/training/8EC9L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8eCBT', 'Rapid', 'astrolabe', 1925, 'halaaku', 1895, 'e4,e5,Nf3,Nc6,Bc4,Be7,O-O,d6,d3,Nf6,c3,O-O,Nbd2,Na5,Bb5,a6,Ba4,b5,Bc2,c5,b4,cxb4,cxb4,Nc6,a3,Bg4,h3,Bxf3,Nxf3,Rc8,Bb2,g6,Bb3,Nh5,d4,Bf6,dxe5,dxe5,Qxd8,Rfxd8,g4,Nf4,Kh2,Nd4,Nxd4,exd4,Kg3,Be5,h4,Nd3+,f4,Nxb2,fxe5,Rc3+,Rf3,Rxf3+,Kxf3,Nd3,Rd1,Nxe5+,Kf4,Nc6,e5,Kg7,e6,fxe6,Bxe6,Rf8+,Ke4,Re8,Kd5,Nd8,Bc8,Nf7,Bxa6,Ra8,Bxb5,Rxa3,Rxd4,Rh3,g5,Re3,Re4', 'Rxe4,Kxe4,Nd6+,Kf3,Nxb5', 'https://lichess.org/training/8eCBT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8eEAQ', 'Blitz', 'newp', 2087, 'IM kostin_av', 2242, 'Nf3,Nf6,c4,c5,Nc3,e6,g3,b6,Bg2,Bb7,O-O,d6,d4,cxd4,Qxd4,a6,e4,Qc7,Be3,Nbd7,h3,Be7,b3,O-O,Rac1,Rac8,Rfd1,Nc5,e5,dxe5,Qxe5,Qxe5,Nxe5,Bxg2,Kxg2,Rfd8,Rxd8+,Bxd8,Rd1,Bc7,Nc6,Kf8,Bxc5+,bxc5,Na7,Rd8,a3,Rxd1,Nxd1,Ke7,b4,Bb6', 'Nc8+,Kd7,Nxb6+', 'https://lichess.org/training/8eEAQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8eedq', 'Classical', 'sosed43', 1724, 'mak05', 1666, 'e4,e5,b3,Nf6,Bb2,Nc6,Nc3,d5,exd5,Nxd5,Bc4,Be6,Qf3,Nd4,Qd3,Nb4,Qe4,Ndxc2+,Kf1,Bxc4+,bxc4,f6,Rc1,Qxd2,Nf3,Qd3+,Qxd3,Nxd3,Rxc2,Nxb2,Rxb2,O-O-O,g3,Ba3,Rb3,Bc5,Kg2,Rd7,Rhb1,b6,Nd5,Rhd8,a4,a5,Nd2,c6,Nxb6+,Bxb6,Rxb6,Rxd2,Rb8+,Kc7', 'R1b7+,Kd6,Rxd8+', 'https://lichess.org/training/8eedq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Efdr', 'Classical', 'blueorange', 1853, 'shivasks', 1778, 'Nf3,d5,g3,Nc6,Bg2,Nf6,O-O,e5,d4,e4,Ne5,Nxe5,dxe5,Ng8,f4,Bg4,Qd4,c6,e3,Ne7,h3,Bc8,g4,Ng6,Nc3,Nh4,a3,b6,b4,Bb7,Bb2,c5,bxc5,Bxc5,Qa4+,Qd7,Qxd7+,Kxd7,Rfe1,Nf3+,Bxf3,exf3,Kf2,d4,Rad1,Ke7', 'exd4,Bxd4+,Rxd4', 'https://lichess.org/training/8Efdr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8EfOu', 'Rapid', 'vytuuu', 2220, 'SarpErel', 2108, 'Nf3,d5,g3,c6,Bg2,e6,O-O,Bd6,d4,Nf6,Nbd2,Nbd7,c4,O-O,Re1,Re8,e4,dxe4,Nxe4,Nxe4,Rxe4,Nf6,Re2,Nd7,b3,e5,Bb2,exd4,Qxd4,Nf6,Rxe8+,Nxe8,Rd1,Qc7,c5,Bf8,Qd8,Qe7,Bh3', 'Bxh3,Qxe7,Bxe7', 'https://lichess.org/training/8EfOu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Egq9', 'Blitz', 'LumBlack', 1889, 'Rafaelvfd', 1935, 'e4,c5,Nf3,e6,g3,d5,e5,Nc6,d3,Nge7,Bg2,Ng6,Qe2,Qc7,Bf4,Nxf4,gxf4,Bd7,c3,O-O-O,Nbd2,Kb8,O-O,h5,a3,h4,b4,h3,Bh1,c4,dxc4,dxc4,Nxc4,Rh6,Ng5,f6,Nf7,Be7,Nxh6,gxh6,f3,b5,Nd6,fxe5,Qxb5+,Ka8,fxe5,Bh4,Rfd1,Nd4,f4+,Bc6,Rxd4,Rg8+,Kf1,Bxh1,Rc4,Rg1+,Kxg1', 'Qg7+,Kf1,Qg2#', 'https://lichess.org/training/8Egq9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8eHTB', 'Rapid', 'varadkurki', 1682, 'fishing_tadpole', 2078, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,Bd3,b5,O-O,Bb7,Nce2,Nf6,f3,Bc5,Be3,d5,Ng3,Nbd7,Kh1,dxe4,Bxe4,O-O,Bxb7,Qxb7,Re1,Rfd8,Qe2,Rac8,Qf2,Nd5,c3,Nxe3,Rxe3,e5,Ndf5,Nf6,Qe2,Bxe3,Qxe3,g6,Qxe5,Rc6,Ne7+,Kf8,Nxc6,Qxc6,Re1', 'Re8,Qxe8+,Nxe8', 'https://lichess.org/training/8eHTB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Ehw9', 'Rapid', 'Slavco', 1886, 'KOBOS19', 1940, 'd4,d5,c4,h6,Nf3,Nf6,Nc3,e6,e3,Be7,Bd2,O-O,Rc1,Nc6,cxd5,exd5,a3,Ne4,Nxe4,dxe4,Ne5,Nxe5,dxe5,f5,exf6,Bxf6,Be2,Bxb2', 'Qb3+,Kh7,Qxb2', 'https://lichess.org/training/8Ehw9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8eiPu', 'Blitz', 'FM ZibbitVideos', 2568, 'ManFromMars', 2206, 'd4,d5,Bf4,c6,e3,Qb6,b3,Bf5,Nd2,e6,c3,Nd7,Ngf3,Ngf6,h3,Ba3,Nh4,Bb2,Nxf5,exf5,Rb1,Bxc3,Qc2,Qa5,Bd3,Ne4,Bxe4,fxe4,Rd1,Nf8,O-O,Ne6,Be5,Bxd2,Rxd2,O-O,Bd6,Rfe8,Bh2,Rad8,b4,Qb6,a4,a6,Rb1,Nc7', 'a5,Qa7,Bxc7', 'https://lichess.org/training/8eiPu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Ej7b', 'Rapid', 'Mahmoud_Adawy', 2022, 'ricardo807', 2114, 'e4,d5,exd5,Nf6,Nc3,Bf5,Bc4,g6,Nf3,Bg7,O-O,O-O,Bb3,Bg4,h3,Bh5,g4,Nxg4,hxg4,Bxg4,d4,Nd7,Bf4,a5,a3,Nf6,Qd3,Nh5,Bh2,e6,Ne5,Bf5,Qe3,a4,Ba2,exd5,Nxd5,c6,Nf4,Qg5+,Ng2,Qf6,c3,Rae8,Rae1,Be6,Bxe6,Rxe6,Qf3,Qg5,Bf4,Nxf4,Qxf4,Qh5,Qh4,Qf5,Re3,Bxe5,dxe5,Rxe5,Rxe5,Qxe5,Re1,Qc5,Qd4,Qxd4,cxd4,Rd8,Rd1,b5,Kf1,f5,Ke2,Kf7,Ne3,Ke6,Nc2,f4,f3,h5,Kd3,c5,Ke4,cxd4,Rxd4,Rxd4+,Nxd4+,Kd6,Kxf4,Kc5,Ke4,h4,Ne6+,Kc4,Nf4,g5,Ne6', 'h3,Nxg5,h2', 'https://lichess.org/training/8Ej7b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8ejZh', 'Rapid', 'turkish_morphy', 2164, 'VOJISLAVPAVLOVIC', 2292, 'e4,e6,Nc3,d5,d4,a6,Bd3,c5,exd5,cxd4,Nce2,Qxd5,Nf3,e5,O-O,Bd6,c3,e4,c4,Qh5,Bxe4,Nf6,Qxd4,Nxe4,Qxe4+,Be6,Bf4,Bxf4,Nxf4,Qf5,Qxf5,Bxf5,Rfe1+,Kf8,Ne5,f6,Nf3,Nc6,Rad1,Kf7,Nd4,Nxd4,Rxd4,g5,Nd5,Rhe8,Kf1,b5,Rc1,Rad8,b3,bxc4,Rcxc4,Re5,Ne3,Rxd4,Rxd4,Bb1,Ra4,f5,g3,Be4,h4,h6,Ke1,gxh4,gxh4,f4,Ng4,Re6,Kd2,h5,Nh2,f3,Rd4,Kf6,Nf1,Ke5,Rd8,Kf4,Rf8+,Kg4,Ng3,Kxh4', 'Rf4+,Kg5,Rxe4', 'https://lichess.org/training/8ejZh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Elnq', 'Rapid', 'voidopening', 1636, 'SnekhaMani', 1654, 'Nf3,Nf6,d4,e6,a3,d5,Nc3,Nc6,Bf4,Be7,Nb5,b6,Nxc7+,Kf8,Nxa8,Bd6,Bxd6+,Qxd6,Qd2,Bb7,Qg5,Bxa8,O-O-O,Ke7,Qxg7,Rb8,h3,Rc8,g4,Qf4+,Kb1', 'Rg8,Qxg8,Nxg8', 'https://lichess.org/training/8Elnq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8eNVS', 'Rapid', 'capelsesv', 1816, 'SayCheese2018', 1841, 'd4,Nf6,Nf3,e6,Bf4,d5,e3,Bd6,Bg3,Bxg3,hxg3,Nbd7,c4,c6,Nc3,Qe7,Qc2,e5,cxd5,cxd5,dxe5,Nxe5,Bb5+,Ned7,O-O-O,a6,Be2,h6,Nxd5,Nxd5,Rxd5,Nf6,Re5,Be6,Qa4+,b5,Bxb5+,Kf8,Kb1,Kg8,Bc4,Ng4,Bd5,Nxe5,Bxa8,Nxf3,Bxf3,Kh7,g4,Rb8,Be4+,g6,Qd4,Rb4,Rxh6+,Kxh6', 'Qh8+,Kg5,f4+,Kxg4,Qh3#', 'https://lichess.org/training/8eNVS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8ESFo', 'Rapid', 'MChessplayer123', 1793, 'Wallasse_Silva', 1753, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,c6,Be2,b5,a3,Bb7,O-O,Be7,Re1,O-O,Be3,a6,Nf5,c5,Nxe7+,Qxe7,f3,Nbd7,Bg5,Qe5,Qd2,c4,Bf4,Qc5+,Be3,Qc7,Rad1,Rad8,Qxd6,Qa5,Qg3,Kh8,Rd6,b4,Bb6', 'Nxb6,axb4,Qxb4', 'https://lichess.org/training/8ESFo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8EsgN', 'Rapid', 'mandakani', 1889, 'CelsoH', 1913, 'd4,c6,c4,d5,cxd5,cxd5,Nc3,Bf5,Bf4,Nf6,e3,a6,Qa4+,Nc6,Nf3,e6,Ne5,Qb6,Nxc6,Qxc6', 'Bb5,axb5,Qxa8+', 'https://lichess.org/training/8EsgN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8eTK4', 'Classical', 'pfccska', 1899, 'can407', 1965, 'c4,c5,Nc3,Nf6,Nf3,d6,g3,g6,Bg2,Nc6,O-O,Bg7,d4,O-O,d5,Nb8,e4,Nbd7,Re1,Qc7,Nb5,Qb8,Rb1,a6,Nc3,Nb6,b3,Bg4,h3,Bxf3,Bxf3,Nbd7,Bg2,b5,Bd2,b4,Ne2,a5,Nf4,Nb6,Nd3,Nfd7,Bf4,Bc3,Re2,a4,Bh6,Re8,Qc1,Ne5,Nxe5,Bxe5,f4,Bd4+,Kh2,axb3,axb3,Nd7,Qf1,Ra3,f5,Qa7,fxg6,hxg6,Qf3,Ra1,Ree1,Rxb1,Rxb1,Qa2,Rf1,Ne5,Qd1,Kh7,Bf4,f6,Bxe5,Bxe5,h4,Ra8,Qb1,Qd2,Qd1,Qh6,Kh3,g5,Qg4,gxh4,Qxh4,Rg8,Qxh6+,Kxh6,Rf3,Kg6,Bf1,Ra8,Bd3,Ra2,Rf1,Rd2,Rf3,Bc3,Re3,Be5,Kg4,Rb2,Be2', 'Bd4,Rf3,Rxe2', 'https://lichess.org/training/8eTK4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8EvuO', 'Classical', 'Ivan-Cosic', 1698, 'bob_kazamakis', 1779, 'e4,c5,c4,e6,d4,a6,dxc5,Bxc5,Nc3,Qc7,Nf3,Ne7,a3,Ng6,b4,Ba7,c5,b5,Ng5,Bb7,Qf3,O-O,Qh3,h6,Nf3,d6,Bxh6,gxh6,Qxh6,Rd8,Ng5,dxc5', 'Qh7+,Kf8,Nxe6+,fxe6,Qxc7', 'https://lichess.org/training/8EvuO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8eYHu', 'Rapid', 'Edu22', 1782, 'manroka', 1847, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Qf6,Be3,h6,Bc4,c6,Nc3,Be7,Qf3,Nd7,O-O-O,Nb6,Qxf6,Nxf6,Be2,O-O,h4,Bg4,f3,Bd7,g4,d5,e5,Ne8,f4,f5,g5,hxg5,hxg5,Bb4,Rd3,Nc4,a3,Ba5,Bd2,Nc7,g6,Rfe8,Rdh3,Kf8,Nb3,Bb6,Na4,Nxd2,Kxd2,Ne6,Rh8+,Ke7,Rxe8+,Rxe8,Rh7,Rg8,Nxb6,axb6,Ke3,c5,Bf3,Bc6,Rh4,Nf8,Nd2,Nxg6,Rh5,Ke6,b3,d4+,Kf2,Nxf4,Rh7,Kxe5,Bxc6,bxc6,Nc4+,Ke6,Nxb6,Nd5,Nc4,Kf6,a4,Kg6,Rh1,Re8,Re1,Rh8,Re6+,Kg5,Rxc6,Rh2+,Ke1,Rxc2,Rxc5,Ne3,Rc7,Kg6,Ne5+,Kf6,Rxc2', 'Nxc2+,Kd2,Kxe5', 'https://lichess.org/training/8eYHu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8EYWe', 'Classical', 'Zerokez', 1711, 'chesseh', 1656, 'd4,d5,Nf3,Nc6,Bf4,Bf5,c3,Nf6,e3,e6,Bd3,Bd6,Bxf5,exf5,Ne5,O-O,O-O,Re8,Nxc6,bxc6,Bg5,h6,Bxf6,Qxf6,Qf3,Qh4,g3,Qf6,Nd2,Rab8,b3,Rb5,c4,Ra5,cxd5,cxd5,a3,Bxa3,Qf4,c6,Qc7,Ra6,Nb1,Bd6,Qd7,Rd8,Qxd8+,Qxd8,Rxa6,Qc7,Nc3,Qb7,Rfa1,Qxb3,Ne2,Qb5,Nf4,Bb8,Ng2,c5,dxc5,Qxc5,Nh4,g6,Nf3,Qc3,Nd4,Be5,Rxa7,Bxd4,exd4,Qxd4,Ra8+,Kg7,R1a5,Qd1+,Kg2,d4,Rd5,d3,Rad8,Qa4,Rxd3,Qc6+,Kg1,Qc1+,Rd1,Qg5,R8d5,h5,f4,Qg4,Kg2,h4,Rd7,Kh6,Kf2,Qh3,Rh1', 'hxg3+,hxg3,Qxh1', 'https://lichess.org/training/8EYWe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8F3vC', 'Blitz', 'supersanchez14', 2088, 'Yeslem', 2061, 'e4,c5,Nf3,d6,c3,e5,d4,cxd4,cxd4,exd4,Nxd4,Nf6,Nc3,Be7,Bg5,Nbd7,Bc4,O-O,O-O,h6,Bh4,Ne5,Bb3,Bg4,f3,Bd7,Kh1,Rc8,Ndb5,Bxb5,Nxb5,a6,Bxf6,axb5,Bxe7,Qxe7,Qd5,Rc5,Qd4,Rfc8,Rad1,R8c6,h3,h5,Bd5,Rb6,b4,Nc6,Bxc6,Rcxc6,a3,Ra6,Qd3,Qe5,Rd2,Rc3,Qd5,Rcxa3,Qxe5,dxe5,Rd5,Ra1,Rxa1,Rxa1+,Kh2,f6,Rxb5,Ra7,Kg3,Kf7,f4,Ra3+,Kh4,exf4,Kxh5,g6+,Kg4,Rg3+,Kxf4,Rxg2,Rxb7+,Ke6,b5,g5+,Kf3,Rb2,b6,Kd6,Rb8,Kc6,b7,Rxb7', 'Rxb7,Kxb7,Kg4,Kc6,Kf5', 'https://lichess.org/training/8F3vC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8F3wu', 'Blitz', 'Mangohunter', 1857, 'mese4', 1981, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,Nc6,O-O,e5,d5,Ne7,Be3,Ne8,Ne1,f5,f3,f4,Bf2,g5,c5,h5,cxd6,cxd6,Rc1,Rf6,Nb5,Rg6,Bxa7,g4,Kh1,g3,Bg1,gxh2,Bxh2,Rxa2,Qb3,Ra8,Nd3,h4,Rg1,Rg3,Rc2,Ng6,Rgc1,Bd7,Nc7,Rc8,Ne6,Bxe6,dxe6,Kh7,Rxc8,Qg5,Rxe8,Rxg2,Rg1,h3,e7', 'Rxg1+,Bxg1,Qg2#', 'https://lichess.org/training/8F3wu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8F6qw', 'Blitz', 'Andrej-Nikita', 1757, 'licmurta', 1712, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Bc4,Nc6,Nxc6,bxc6,O-O,Rb8,Nc3,d6,Qf3,e6,Rb1,d5,exd5,cxd5,Bb3,Bb7,Qd3,Ne7,Bg5,O-O,Rfd1,Qc7,Bh4,Nf5,Bg3,Nxg3,hxg3,Bxc3,Qxc3,Qxc3,bxc3,Rfc8,Rd3,Ba6,Rf3,Bc4,Rd1,a5,Rd4,Be2,Re3,Bb5,a4,Ba6,Rf3,Rc7,g4,Rbc8,g5,Rxc3,Rf6,Bc4,Rdf4,Rc7,Rf3,Rxf3,Rxf3,Bxb3,cxb3,Rb7,Kf1,d4,Ke2,e5,Kd2,Kf8,Rd3,Ke7,g3,Ke6,f4,Kd5,fxe5,Kxe5,Ke2,Rc7,Rf3,Rc2+,Kd1,Rg2,Ke1,Ke4,Rxf7,Ke3,Re7+,Kf3,Rxh7,d3,Rg7,Ke3,Re7+,Kd4,Rd7+,Kc3,Rc7+,Kxb3,Rd7,d2+,Kd1,Kxa4,Rd6,Kb3,Rxg6,a4,Rb6+,Kc4,Rc6+,Kb5,Rc8,Kb4,Rb8+,Kc3,Rc8+,Kd3,Rd8+,Ke3,Re8+,Kf3,Ra8,Ke3,Re8+,Kf3,Ra8,Kxg3,Rxa4,Kf3,Ra8,Ke3,Re8+,Kd4,Rd8+,Ke5,Re8+,Kf5,Rf8+,Kg4', 'g6,Kh4,Rh8+,Kg5,g7', 'https://lichess.org/training/8F6qw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8fAau', 'Rapid', 'Rehaahun', 2293, 'CharlyCastillo', 1840, 'e4,c5,Nf3,d6,Bc4,Nf6,d3,e6,O-O,Nc6,c3,Be7,Bb5,a6,Ba4,b5,Bc2,Ne5,Bf4,Ng6,Bg3,e5,Nbd2,Bg4,h3,Bh5,Bh2,Nf4,d4,cxd4,cxd4,Bg6,dxe5,dxe5,Nxe5,N6h5,Rc1,Bd6,Ndf3,Qf6,Nxg6,Nxh3+,Kh1,hxg6,e5,Bxe5,Qe2,N3f4,Qxe5+,Qxe5,Nxe5,O-O-O,Nxf7,Ne2,Bf5+,Kb7,Be4+,Kb6,Rc7,Neg3+,Bxg3', 'Nxg3+,Kg1,Ne2#', 'https://lichess.org/training/8fAau');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8farJ', 'Rapid', 'Yuxuan2', 2082, 'Zenostar', 2040, 'd4,Nf6,c4,g6,Nc3,Bg7,g3,d6,Bg2,O-O,Nf3,Nbd7,O-O,c5,e3,cxd4,exd4,Rb8,Re1,a6,Qe2,e6,b3,Re8,Bb2,b6,Rad1,Bb7,Nh4,Bxg2,Nxg2,e5,dxe5,Nxe5,Kh1,Qc7,Qd2,Rbd8,Nd5,Nxd5,Qxd5,Qc5,Qxc5,bxc5,Bxe5,dxe5,Ne3,Rxd1,Rxd1,e4,Kg2,Bd4,Nd5,Kg7,b4,f5,Nc7,Re7,Nxa6,e3,fxe3,Rxe3,bxc5,Re2+,Kf3', 'Rf2#', 'https://lichess.org/training/8farJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8fbUU', 'Blitz', 'Mohlala', 1630, 'eaten_by_a_grue', 1618, 'e4,c5,Nf3,Nc6,Bc4,g6,h4,Bg7,h5,Ne5,Nxe5,Bxe5,hxg6,fxg6,Nc3,Nf6,d3,a6,f4,Bd4,a3,b5,Ba2,d6,Ne2,Bg4,c3,Bxc3+,bxc3,Qc8,Qd2,Bh5,Ng3,Qg4,Qe3', 'Qd1+,Kf2,Ng4#', 'https://lichess.org/training/8fbUU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8FCGO', 'Rapid', 'tonycastles', 1800, 'Anupam25', 1767, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Bc5,e3,Nc6,h3,Ngxe5,Bd3,Nxd3+,Qxd3,O-O,O-O,Nb4,Qe4,d5,cxd5,Nxd5,Rd1,c6,Nc3', 'Nxc3,Rxd8,Nxe4', 'https://lichess.org/training/8FCGO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8FemW', 'Rapid', 'N3ur0na1pl4sticity', 1822, 'dimachess99', 1828, 'e4,Nf6,e5,Nd5,c4,Nb6,Nf3,d6,exd6,cxd6,Nc3,Bg4,Be2,Bxf3,Bxf3,Qc7,b3,Nc6,d4,e6,O-O,O-O-O,Bf4,e5,dxe5,dxe5,Bxe5,Qxe5,Bg4+,Kb8,Qf3,Bd6,g3,f6,Rfe1,Nd4,Qd1,Ne2+,Rxe2,Qxc3,Rc1,Qb4,Qc2,Bc5,Be6,Nd7,Bd5,Nb6,Bg2,g6,Qe4,Nd7,a3,Qxb3', 'Rb1,Qxb1+,Qxb1', 'https://lichess.org/training/8FemW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8FFU8', 'Rapid', 'SemLion777', 1660, 'okruga', 1729, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,e4,d6,Be2,e5,d5,Nfd7,O-O,f5,exf5,Rxf5,Bd3,Rf8,h4,Nf6,Qc2,Bg4,Ng5,Nbd7,f3,h6,Ne6,Bxe6,dxe6,Nc5,Bxg6,Nxe6,g4,Nf4,Bxf4,exf4,Rad1,Qd7,Qg2,Rae8,g5,Re6,gxf6,Rfxf6,h5,Re5,Ne4,Rfe6,Qh3', 'Rxg6+,hxg6,Qxh3', 'https://lichess.org/training/8FFU8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8FFZR', 'Blitz', 'spartacusbudapestis', 2271, 'negaweg', 2238, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,Nc3,Bb4,e3,Bxc3+,bxc3,Ngxe5,Nxe5,Nxe5,f4,Ng6,Bd3,d6,O-O,O-O,f5,Ne5,f6,Nxd3,Qxd3,g6,e4,Kh8,Qe3,Rg8,Qg3,Be6,c5,dxc5,Bf4,c6,Rad1,Qb6,Qg5,c4+,Be3,Qb2,Rf4,Qe2,Rh4,Qxd1+,Kf2,Qc2+,Kg1,Qd1+,Kf2,Qc2+,Kg1,Rad8', 'Rxh7+,Kxh7,Qh4#', 'https://lichess.org/training/8FFZR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8fGUV', 'Rapid', 'paulatreides', 1885, 'DRook', 1963, 'e4,e5,Bc4,Nc6,a4,Nf6,d3,Bc5,Nf3,h6,Nc3,d6,h3,Be6,Ba2,Nb4,Be3,Bb6,a5,Bxe3,fxe3,d5,Nxe5,d4,exd4,Qxd4,Nf3,Qe3+,Kf1,Nxa2,Nxa2,Rd8,Qd2,Qc5,Nc3,O-O,Qf2,Qb4,Nd1,c5,Qd2,Qb5,Kf2', 'Nxe4+,dxe4,Rxd2+', 'https://lichess.org/training/8fGUV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8fOEV', 'Rapid', 'jupiterwho', 1715, 'placebob', 1710, 'e4,e5,Bc4,Nc6,Nf3,h6,O-O,Nf6,Nc3,Bb4,d3,O-O,Ne2,d6,h3,Na5,Bb5,c6,Ba4,b5,Bb3,c5,c3,c4,cxb4,Nxb3,axb3,cxb3,Qxb3,Bb7,Ng3,d5,Nxe5,dxe4,dxe4,Nxe4,Nxe4,Bxe4,Qe3,Qd5,Qf4,Bxg2,Be3,Bxf1,Kxf1', 'Qh1+,Ke2,Qxa1', 'https://lichess.org/training/8fOEV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8fOtM', 'Blitz', 'PsychVSS', 2312, 'IM Goodwilll', 2407, 'd4,d5,c4,e6,Nf3,Nf6,e3,c6,Nc3,Be7,Bd3,O-O,O-O,dxc4,Bxc4,b5,Bd3,Bb7,e4,a6,Be3,Nbd7,h3,c5,Qe2,Qb6,Rad1,Rfd8,e5,Nd5,Nxd5,Bxd5,dxc5,Bxc5,Bxc5,Qxc5,Ng5,g6,Rc1,Qd4,Rfe1,Rac8,Rcd1,Qf4,Qe3,Qxe3,Rxe3,h6,Ne4,Bxe4,Rxe4,Nc5,Re3,Rd5,Be2,Rcd8,Rxd5,Rxd5,f4,Rd2,b4,Na4,a3,g5,g3,gxf4,gxf4,Rc2,Kf1,Nc3,Bd3,Nd5', 'Rg3+,Kf8,Bxc2', 'https://lichess.org/training/8fOtM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8FROW', 'Rapid', 'TroubleMakeRR', 1622, 'Anchel', 2033, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Nf3,Ngf6,Bd3,Nxe4,Bxe4,Nf6,Bd3,Bg4,Be3,e6,O-O,Bd6,h3,Bh5,Bg5,Qc7,Be2,h6,Be3,g5,Ne5,Bxe2,Qxe2,Bxe5,dxe5,Qxe5,Rad1,Nd5,c4,Nxe3,fxe3,Ke7,Kh1,Rad8,Rxd8,Rxd8,Qh5,Qg7,Rf2,Rd3,Qe2,Qg6,e4,Rd4,e5,Qe4,Qh5,Qg6,Qe2,Re4,Qd2,Rxe5,Qb4+,c5', 'Qxb7+,Kf8,Qb8+,Kg7,Qxe5+', 'https://lichess.org/training/8FROW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Fs7S', 'Rapid', 'Iwan_Albert', 1983, 'iHeartMuons', 1947, 'd4,Nf6,c4,e6,Nc3,Bb4,Bg5,h6,Bh4,b6,Nf3,Bb7,e3,O-O,Bd3,Be7,O-O,d6,Qc2,Nbd7,Rad1,a6,e4,e5,dxe5,dxe5,Nd5', 'Nxd5,cxd5,Bxh4,Nxh4,Qxh4', 'https://lichess.org/training/8Fs7S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8FvKR', 'Rapid', 'Faredmohmd', 2010, 'Martis3000', 1941, 'e4,c5,Nf3,Nc6,Bc4,e6,Bb3,a6,c3,h6,d4,b5,a3,d5,exd5,exd5,O-O,c4,Bc2,Nf6,b3,Be6,Re1,Be7,h3,O-O,a4,Qd7,Ne5,Nxe5,dxe5,Nh7,Be3,Bf5,axb5,Bxc2,Qxc2,axb5,Rxa8,Rxa8,Nd2,Qc7,Nf3,Bc5,b4,Bxe3,Rxe3,Ra1+,Kh2,Ra8,g3,Re8,Qf5,g6,Qf4,Kg7,Nd4,Qd7,h4,g5,hxg5,hxg5,Qf5,Qxf5,Nxf5+,Kg6,Nd6,Rb8,Rf3,f5,Rxf5,Rb6,g4,Rxd6,exd6,Nf6,Rxf6+,Kxf6,d7', 'Ke7,d8=B+,Kxd8,Kg2,d4', 'https://lichess.org/training/8FvKR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8fvRi', 'Blitz', 'shivanand12345', 1590, 'Eltiotoki98', 1591, 'd4,d5,Nf3,Nf6,Nc3,Nc6,Bf4,Bf5,a3,e6,h3,Bd6,Ne5,Bxe5,dxe5,Nd7,e3,Ncxe5,Bb5,O-O,Bxd7,Nxd7,Qh5,Bg6,Qg4,Nf6,Qg3,c6,O-O,Bxc2,Bh6,Bg6,Bg5,h6,Bf4,Nh5,Qf3,Qe7,Bh2,f5,Be5,Nf6,Qe2,Ne4,Nxe4,fxe4,f3,exf3,Rxf3,Rf5,Raf1,Raf8,Rxf5,Rxf5,Bd4,Rh5,Rf4,Qg5,Rg4,Qf5,Qe1,Rg5,Rf4,Qxh3,Qf2,Qg3', 'Rf8+,Kh7,Rh8+,Kxh8,Qf8+,Kh7,Qxg7#', 'https://lichess.org/training/8fvRi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8fx5v', 'Blitz', 'derptato', 1645, 'spiterozo01', 1800, 'e4,c6,d3,d5,exd5,cxd5,Nf3,d4,c3,Nc6,Bf4,Nf6,g3,Bg4,Bg2,e5,Bg5,Bd6,h3,Bh5,g4,Bg6,O-O,O-O,c4,Nb4,Bxf6,Qxf6,g5,Qe7,a3,Nxd3,Nbd2,Nf4,h4,Bh5,Ne4,Qd7,c5,Qg4,Ng3,Bxc5,Nxe5,Qxd1,Raxd1,Bxd1,Rxd1,Rfe8,Nd7,Nxg2,Kxg2,Bd6,Rxd4,Bxg3,Kxg3,Rad8,Kf3,Re7,Nf6+,gxf6,Rxd8+,Kg7,gxf6+,Kxf6,Rd6+,Re6,Rxe6+,fxe6,Ke4,h5,f4,a6,b3,b5,b4,Ke7,Ke5,Kf7,Kd6', 'Kf6,Kc6,Kf5,Kb7,Kxf4', 'https://lichess.org/training/8fx5v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8fXGQ', 'Blitz', 'marcusyeo', 1625, 'MisterLala', 1617, 'd4,Nf6,c4,c5,Nc3,cxd4,Qxd4,g6,Bf4,Nc6,Qd1,Bg7,e4,d6,Qc2,O-O,Rd1,Re8,Nf3,a6,Be2,Bd7,e5,dxe5,Nxe5,Nh5,Nxc6,bxc6,Bg5,Qc7,Ne4,Nf6,Bf3,Rad8,O-O,Bf5,Qe2,Nxe4,Bxe4,Bxe4,Qxe4,h6,Bf4,e5,Bg3,Rxd1,Rxd1,f5,Qc2,f4,Qxg6,Rd8,Rxd8+,Qxd8,Qe6+,Kh8,h4,Qd1+,Kh2,fxg3+,Kxg3,Qd3+,f3,e4,Qxc6,exf3,gxf3,Be5+,Kg4,h5+,Kxh5', 'Qf5+,Kh6,Bf4#', 'https://lichess.org/training/8fXGQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8G1IC', 'Blitz', 'satrancustam', 2257, 'FM klimkoj', 2569, 'e4,c5,c3,d6,d4,cxd4,cxd4,d5,exd5,Nf6,Nc3,Nxd5,Nf3,e6,Bd3,Bb4,Bd2,Bxc3,Bxc3,O-O,O-O,Nc6,Bc2,b6,Qd3,g6,Rac1,Bb7,Ne5,Ncb4,Qg3,Nxc2,Rxc2,Rc8,Rfc1,f6,Ng4,h5,Ne3,Kh7,Bd2,Rxc2,Rxc2,Qd7', 'Nxd5,Bxd5,Rc7', 'https://lichess.org/training/8G1IC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8G2AT', 'Blitz', 'ARARAT71', 1871, 'igorcava', 2190, 'e4,c5,b4,e6,bxc5,Bxc5,d4,Be7,c4,d6,d5,e5,f4,Nd7,Nf3,Ngf6,Nc3,O-O,Bd3,Re8,f5,Nc5,O-O,Nxd3,Qxd3,b6,a4,Ba6,Nb5,Qd7,h3,Rec8,Be3,Qd8,Rac1,Nd7,g4,Nc5,Bxc5,Rxc5,Qe3,f6,h4,Rac8,Nd2,Qd7,g5,Bxb5,axb5,Qe8,Rf2,Qh5,Rh2,Rxb5,Nf3,Rbc5,Qd3,b5,g6,hxg6,fxg6,Rxc4,Rxc4,Rxc4,Qb3,Qg4+,Rg2,Rc1+,Kh2,Qf4+,Rg3,Qxe4,Qxb5,Rc2+,Kh3,Qf5+,Rg4,Qxf3+,Rg3,Qf5+,Rg4,Rh2+,Kxh2,Qxg4', 'Qe8+,Bf8,Qf7+,Kh8,Qxf8#', 'https://lichess.org/training/8G2AT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8G3wy', 'Bullet', 'dafs123', 1611, 'Luminax', 1583, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bf5,Bd3,Bxd3,Qxd3,e6,Nc3,Nc6,Bf4,Nge7,Ne5,Nf5,Nxc6,bxc6,O-O,c5,Ne2,Qb6,c3,Bd6,Bxd6,Qxd6,dxc5,Qxc5,Nf4,O-O,Rae1,Rab8,b3,a5,Re5,Rfc8,c4,dxc4,Qe2,Qd4,Nh3,cxb3,axb3,Rxb3,Rd1,Qa7,Ng5,h6,Nxe6,fxe6,Rxe6,Rbb8,h3,Qc7,Qg4,Qc5,Rg6,Rf8,Rd7,Rbe8', 'Rgxg7+,Nxg7,Qxg7#', 'https://lichess.org/training/8G3wy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8G4hZ', 'Blitz', 'tahafreddy', 1727, 'CossioChess7', 1680, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,Nc3,Bc5,Bc4,b5,Bb3,b4,Na4,Bxf2+,Kxf2,Nxe4+,Kf1,O-O,Qf3,Nxd2+,Bxd2,Qxd2,Rd1,Ba6+,c4,Qg5,Kf2,Rad8,Rhe1,Qh4+,Qg3,Qf6+,Kg1,Rfe8,Nc5,Rxe1+,Qxe1,Bc8,Rxd8+,Qxd8,Qxb4,Qd4+,Kf1,Qf4+,Ke1,Qe3+,Kd1,Bg4+,Kc2,Qf2+,Qd2,Qxc5,Qd8+,Qf8,Qxc7,Bf5+,Kc1,g6,c5,Qh6+,Kd1,Qh5+,Kd2,Qg5+,Ke2,Qxg2+,Ke3,Qe4+,Kd2,Qd3+,Ke1,Bg4', 'Qxf7+,Kh8,Qf6#', 'https://lichess.org/training/8G4hZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8G68G', 'Rapid', 'babakpishvazi', 2004, 'Sergei_Nov_1234', 1957, 'e4,c6,f4,d5,e5,Bf5,Nf3,e6,Bd3,Bxd3,cxd3,d4,b3,c5,Bb2,Nc6,Na3,Nge7,Nc4,Nd5,O-O,Nxf4,Nxd4,Nxd3,Nxc6,bxc6,Kh1,Nxb2,Nxb2,Be7,Qf3,O-O,Qxc6,Rc8,Qa6,Qc7,Nc4,Rfd8,Rf3,Rd5,Raf1,Rf8,h3,Rxe5,Nxe5,Qxe5,Qxa7,Bd6,g3,Qd5,Rf2,Bxg3,Rf1,Bb8,Qe7,Qxd2,R1f2,Qd1+,Kg2,Qd5,Qh4,e5,Qc4,Qd6,Rxf7', 'Qg6+,Kf1,Rxf7', 'https://lichess.org/training/8G68G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8g6Du', 'Rapid', 'sillychina', 2338, 'fadimiqdad1999', 2323, 'd4,Nf6,c4,e6,Nc3,Bb4,f3,d5,a3,Bxc3+,bxc3,c5,cxd5,exd5,e3,O-O,Bd3,c4,Bc2,b5,Ne2,a5,Ng3,Re8,O-O,Bb7,Nf5,Qb6,Bd2,Nbd7,Qe1,Nf8,Qg3,Ng6,h4,Rac8,Rab1,Re6,Qg5,h5,g4,hxg4,h5,Nh7,Qxg4,Nf6,Qg5,Ne8,Kf2,Nf8,Rg1,g6,hxg6,Rxg6,Ne7+,Kg7,Nxg6,Nxg6,Rh1,Nf6,Qh6+,Kg8,Bxg6,fxg6,Qxg6+,Kf8,Rh7', 'Ne4+,Qxe4,dxe4', 'https://lichess.org/training/8g6Du');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8gbSc', 'Rapid', 'Remedyr6', 2047, 'tnrhna', 1854, 'e4,c5,Nc3,g6,d3,Bg7,Nge2,Nc6,g3,e6,Bg2,Nge7,Be3,b6,Qd2,Bb7,O-O,O-O,Bh6,d5,exd5,exd5,Bxg7,Kxg7,Rae1,d4,Ne4,Nf5,Qf4,Nb4,h4,Nd5,Qe5+,f6,Nxf6,Rxf6,Nf4,Nxf4,Bxb7,Rb8,Be4,Ne6,g4,Qd6,Bxf5,Qxe5,Rxe5,gxf5,Rfe1,Kf7,g5,Rg6,Kh2,Rb7,Rxf5+,Kg7,Rg1,Rf7,Re5,Rxf2+,Kh3,Kh8,h5,Nxg5+,Rgxg5,Rf3+,Kg2,Rxg5+,Rxg5,h6,Re5,Rf7,Kg3,Kh7,c3,dxc3,bxc3,Rd7,Re3,Kg7,Kg4,Kf6,Kf4,Rd6,a4,a6,Ke4', 'Re6+,Kf3,Rxe3+,Kxe3,Kg5', 'https://lichess.org/training/8gbSc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Gd18', 'Rapid', 'Om_udi', 1821, 'Muhammad_muaz', 1903, 'e4,e5,Nc3,Nc6,f4,Qe7,Nf3,d6,Bb5,Nf6,fxe5,dxe5,d3,Bd7,O-O,O-O-O,Bg5,h6,Nd5', 'Qc5+,Be3,Qxb5', 'https://lichess.org/training/8Gd18');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8gfCz', 'Blitz', 'Borjoff', 1724, 'Markiza05', 1815, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Nxe5,Nxe5,d4,Bxd4,Qxd4,f6,Bf4,d6,Bc4,Ne7,O-O,N7c6,Qd5,Qe7,Bxe5,Nxe5,Bb3,c6,Qd2,Be6,f4,Bxb3,axb3,Ng6,Qe3,a6,Rae1,O-O,Rf3,Rad8,Rg3,Qc7,f5,Ne5,Qh6,Kh8,Qh4,Rg8', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/8gfCz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8GfTc', 'Classical', 'JAMAL2400', 1919, 'Edwar2008', 2030, 'e4,c6,f4,d5,exd5,cxd5,d4,Nc6,Nf3,Bg4,Be2,Nf6,O-O,e6,c3,Bd6,Ne5,Bxe2,Qxe2,O-O,Be3,Ne4,Nd2,f5,Rac1,Nxe5,fxe5,Be7,c4,Bg5,Nxe4,fxe4,Bxg5,Qxg5,cxd5,exd5,Kh1,Rac8,Rxc8,Rxc8,Qf2,h6,Qf7+,Kh7,Qxd5,Qe3,Qd7,Qf2,Rg1,Rf8,Qxb7,e3,Qe4+,Kh8,e6,e2,e7', 'Qxg1+,Kxg1,Rf1#', 'https://lichess.org/training/8GfTc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8GGVf', 'Rapid', 'gringo49', 1731, 'CoveringCherubs77766', 1991, 'd4,d6,Nf3,Nd7,Bf4,g6,e3,Bg7,Nbd2,e5,dxe5,dxe5,Bg3,Ne7,c3,O-O,Be2,h6,O-O,f5,Nc4,f4,exf4,exf4,Bh4,g5,Bxg5,hxg5,Nxg5,Nf6,Qb3,Ned5,Ne5,Bf5,Bc4,c6,Rad1,Qe7,Ngf3,Rad8,Rd4,b5,Bxd5+,Nxd5,Nxc6,Qe6,Nxd8,Rxd8,Re1,Qc6,Ne5,Bxe5,Rxe5,Be6,Rde4,Bf7,Qd1,Qg6,Rxf4,Nxf4', 'Qxd8+,Kh7,Qh4+', 'https://lichess.org/training/8GGVf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8gHor', 'Rapid', 'baranlp', 1686, 'Mohit99', 1602, 'e4,e6,d4,d5,e5,c5,Bb5+,Nc6,Bxc6+,bxc6,Nf3,Ba6,a3,Qb6,Be3,Qxb2,Nbd2,cxd4,Bxd4,Qb8,Nb3,Ne7,Nc5,Bb5,Rb1,Qc7,a4,Qa5+,c3,Bc4', 'Nb7,Qc7,Nd6+', 'https://lichess.org/training/8gHor');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8gLKQ', 'Rapid', 'jamamoto', 1696, 'Kizono', 1811, 'e4,c5,Nf3,g6,Bc4,Nf6,Ng5,e6,d3,d5,exd5,exd5,Bb5+,Nc6,Qe2+,Be7,O-O,O-O,Bxc6,bxc6,c3,Bg4,f3,Bc8,c4,d4,Ne4,Nh5,Bh6,Re8,Qf2,Ng7,f4,Nf5,Bg5,Bxg5,fxg5,Kh8,Qf4,Be6,Nf6,Re7,Qf3,Ne3,Rf2,Qa5,Nd2,Rb8,b3,Nc2,Raf1,Qxa2,Nde4,Qxb3,Nxc5,Qc3,Nxe6,fxe6,Qh3,Ne3,Nd5,cxd5', 'Rf8+,Rxf8,Rxf8+,Kg7,Qh6#', 'https://lichess.org/training/8gLKQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8gMcF', 'Rapid', 'panosb', 1844, 'Douk', 1886, 'c4,g6,g3,Bg7,Bg2,d6,Nc3,Nf6,d4,O-O,Nf3,Nc6,O-O,Re8,d5,Nb8,Qc2,e5,e4,b6,b4,a5,bxa5,Rxa5,Bd2,Ra8,a4,Nbd7,Nb5,Nc5,Ne1,Bd7,Bb4,Nb7,Nd3,Bxb5,cxb5,Nc5,Nxc5,bxc5,Bd2,Nd7,Rfb1,Rf8,a5,f5,a6,Nb6,Ba5,Qe7,Bxb6,cxb6,Bh3,fxe4,Be6+,Kh8,Qxe4,Ra7,Rb3,Qf6,Ra2,Bh6,Kg2,Kg7,h4,g5,h5,Qe7,Raa3,Qe8,Rf3,Rxf3,Rxf3,Qxb5,Bf5,Kh8,Bc8,Qe8,Bb7,Qe7,Rf5,Bg7,Qf3,Kg8,Qg4,h6,Qa4,Bf8,Qc6,e4,g4,e3,fxe3,Qxe3,Qc8,Qe4+,Rf3,Qe2+,Rf2,Qe7,Qb8,Qe4+,Kg1,Qxg4+,Kf1,Qh3+,Ke1,Qc3+,Kf1,Qh3+,Ke1,Rxb7,axb7,Qh1+,Rf1,Qe4+,Kf2,Qh4+,Ke3,Qd4+,Ke2,Qc4+,Kf2,Qf4+,Kg2,Qg4+,Kf2,Qh4+,Ke2,Qc4+,Kf2,Qxd5', 'Qxf8+,Kxf8,b8=Q+', 'https://lichess.org/training/8gMcF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8GMzU', 'Rapid', 'myatniy_ledenec', 1571, 'soldatpose123', 1507, 'd4,Nf6,Nc3,e6,Nf3,Bb4,Bd2,O-O,a3,Ba5,e4,c6,Bc4,d5,exd5,exd5,Bd3,Re8+,Be3,Ne4,O-O,Bc7,Ng5,Qd6,g3,Nxc3,bxc3,Nd7,Qh5,Nf6,Qxf7+,Kh8,Bxh7,Be6,Qg6,Rf8,Qd3,Qe7,Bf5,Bxf5,Qxf5,Kg8,Ne6,Ne4,Qg6', 'Rf6,Qxg7+,Qxg7,Nxg7,Kxg7', 'https://lichess.org/training/8GMzU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8GnMp', 'Bullet', 'Wavefunction343', 1721, 'ibisen', 1679, 'd4,d5,c4,c5,dxc5,d4,e3,e5,Nf3,Nc6,Bd3,Bg4,O-O,Nf6,Re1,e4,exd4,Be7,Bxe4,Nxe4,Rxe4,O-O,Rxg4,f5,Rg3,Qd7,d5,f4,Rh3,Bxc5,Nc3,Ne7,Ne5,Qf5,d6,Qxe5,dxe7,Qxe7,Qd3', 'Qe1+,Qf1,Bxf2+,Kh1,Qxf1#', 'https://lichess.org/training/8GnMp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8gnYZ', 'Rapid', 'coco56', 1657, 'Radek-M', 1654, 'd4,Nf6,Bf4,d6,Nf3,Bg4,Nbd2,Nc6,h3,Bf5,c4,e5,dxe5,dxe5,Bg5,h6,Bxf6,Qxf6,b3,e4,Nh2,Bb4,Rb1,Qh4,e3,O-O,g3,Qf6,Qc2,Rad8,Rd1,Ne5,Bg2,Nd3+,Ke2,Nxf2,Kxf2,Bxh3+,Kg1,Bxg2,Kxg2,Bc5,Nxe4,Qc6,Kf2,Rxd1,Rxd1,Bb6,c5,Ba5,a3,f5,Nd2,Bxd2,Rxd2,Qg6,b4,Qh5,Kg2,Qg6,Rd7', 'Qc6+,Nf3,Qxd7', 'https://lichess.org/training/8gnYZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8gopE', 'Rapid', 'to_ca', 2203, 'iw', 2216, 'd4,Nf6,c4,g6,Nf3,d5,cxd5,Nxd5,e4,Nb6,Nc3,Bg7,a4,a5,Be3,Nc6,Bb5,O-O,Bxc6,bxc6,h3,Ba6,Qc2,Rb8,O-O-O,Nc4,b3,Qd6,Qa2,Qb4,Kc2,Na3+,Kb2,Nc4+,Kc2,Nd6,e5,Nf5,Ne4,Rfd8,Nc5,Be2,Rd2,Bxf3,gxf3,Nxe3+,fxe3,Rb6,f4,Rd5,Nd3,Rxd4,Nxb4,Rdxb4,Rd8+,Bf8,Rhd1,Kg7,R1d4,c5,Rxb4,cxb4,Qb2,e6,Qd4,Rc6+,Kb2,Rc3,Qxc3,bxc3+,Kxc3,Bb4+,Kd3,c5,Rd7,h5,Kc4,Kf8,Rc7,Bd2,Rxc5,Bxe3,Rxa5,Bxf4,Ra8+,Kg7,Kd4,g5,b4,g4,Ke4,gxh3,Rc8', 'h2,Kxf4,h1=Q', 'https://lichess.org/training/8gopE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8GoY5', 'Rapid', 'buddhiman', 1872, 'Grisu-Kruemel', 1955, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Bg5,Ne7,Bd3,h6,Bh4,Be6,Nc3,c6,O-O,Qd7,Re1,g5,Bg3,Bxg3,fxg3,Qd6,Ne5,Nd7,Qh5,Nxe5,Rxe5,O-O-O,Rae1,Rdg8,Na4,Qb4,Nc5', 'Qxd4+,R5e3,Qxc5', 'https://lichess.org/training/8GoY5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8gp70', 'Rapid', 'ferrucciolari', 1678, 'franckonjar', 1693, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Ba5,d4,exd4,O-O,dxc3,Qb3,Qf6,Bg5,Qg6,Nxc3,Nf6,Bxf6,Qxf6,Rfe1,O-O,e5,Qe7,Nd5,Qc5,Qc2,Bxe1,Rxe1,b5,Nxc7,Nb4', 'Bxf7+,Rxf7,Qxc5', 'https://lichess.org/training/8gp70');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8gR8d', 'Rapid', 'SJMistery', 1617, 'adelmarc', 1663, 'd4,d5,c4,dxc4,e4,b5,a4,c6,Nc3,b4,Nb1,e5,dxe5,Qxd1+,Kxd1,Ba6,Nd2,c3,Bxa6,Nxa6,bxc3,bxc3,Nc4,O-O-O+,Kc2,Rd4,Kxc3,Rxe4,f4,Bc5,Nf3,Bb4+,Kd3', 'Nc5+,Kc2,Rxc4+', 'https://lichess.org/training/8gR8d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8gRvi', 'Rapid', 'Jreimar', 1691, 'fulak', 1699, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bg5,Be7,Bc4,O-O,O-O,Be6,Bxe6,fxe6,e5,Nh5,Bxe7,Qxe7,exd6,Qxd6,Qc4,a6,Rad1,Qe5,Rfe1,b5,Qxe6+,Qxe6,Rxe6,c5,a3,b4,axb4,cxb4,Na4,Nf4,Re4,a5,g3', 'Nh3+,Kg2,Nxf2,Rdd4,Nxe4', 'https://lichess.org/training/8gRvi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8guS5', 'Rapid', 'Kopylov-77728', 1637, 'Wojti1984', 1604, 'e4,g6,a3,Bg7,Bc4,e6,Ba2,Ne7,d3,b6,Nc3,Bb7,Bd2,Nbc6,Qc1,O-O,Bh6,d5,Bxg7,Kxg7,h4,dxe4,Nxe4,h5,Ng3,Nd4,Nf3,Nxf3+,gxf3,Bxf3,Rg1,Nf5,Qg5,Qxg5,hxg5,Nxg3,Rxg3,Bd5,Bxd5,exd5,Kd2,Rfe8,f4,f5,gxf6+,Kxf6,Rag1,Rg8,Rg5,h4,f5,h3,fxg6', 'h2,Rh1,Kxg5', 'https://lichess.org/training/8guS5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8gybd', 'Rapid', 'heinr', 1751, 'Soares1973', 1808, 'd4,d5,Nf3,Nf6,e3,g6,c4,c6,Bd2,Bg7,Bc3,O-O,h4,h5,Be2,Ne4,Bb4,a5,Qa4,dxc4,Qa3,b5,Bxe7,Qd7,Ne5,Bxe5,Bxf8,Nd6,Bxd6', 'Bxd6,Qc3,Bb4', 'https://lichess.org/training/8gybd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8GzKW', 'Classical', 'BacR_KoHb', 1631, 'puig', 1626, 'c3,g6,Qa4,Bg7,g4,Bh6,h4,e5,g5,Bg7,d3,a6,Nd2,b5,Qb3,d5,Bg2,Be6,Nf1,e4,Bf4,exd3,exd3,c6,Qb4,Nd7,O-O-O,c5,Qb3,c4,dxc4,bxc4,Qa4,Ne7,Ne3,Qb6,Bxd5,Nxd5,Nxd5,Bxd5,Rxd5,O-O,Rxd7,Qxf2,Qxc4,Rfc8,Rc7,Qe1+,Kc2,Qf2+,Bd2,Rd8,Qf4,Rxd2+,Qxd2,Qb6,Qd7,Rf8,Ne2,Qf2,Qe7,Qg2,Rd1,h6,Rd8,Qf3,Rxf8+,Bxf8,Rc8,Qf5+,Kd2,Qxc8,Qe3,hxg5,hxg5,Qd7+,Qd4,Qb7,b3,Qc7,Nf4,Bg7,Nd5', 'Qh2+,Kd3,Bxd4', 'https://lichess.org/training/8GzKW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8h0sJ', 'Rapid', 'Fgori', 1910, 'luckychess13', 1649, 'e4,c5,Bc4,Nc6,a3,d6,d3,Nf6,Nf3,g6,Ng5,e6,Nf3,Bg7,Nc3,a6,Bg5,O-O,Qc1,Qb6,O-O,Qa7,Bh6,b5,Ba2,Bb7,h3,Rfe8,Bxg7,Kxg7,Ne2,d5,exd5,Nxd5,Bxd5,exd5,Ng3,Re6,Qg5,Rae8,Qxd5,Nd4,Qg5,Bxf3,c3,Re5,Qd2,Nb3,Qf4,Bxg2,Kxg2,Nxa1,Rxa1,Qb7+,f3,Re3,Ne4,Re2+,Kf1,Rxb2,c4,bxc4,dxc4,Qb8,Qf6+,Kf8,Ng5,Rb1+,Rxb1,Qxb1+,Kf2,Qf5', 'Nxh7+,Kg8,Qxf5,gxf5,Nf6+,Kf8,Nxe8', 'https://lichess.org/training/8h0sJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8H7k7', 'Rapid', 'ivanski21', 1662, 'Debasish223', 1647, 'g3,d5,Bg2,e6,b3,Nf6,Bb2,Nc6,d3,Be7,Nd2,O-O,Ngf3,b6,O-O,a5,c4,dxc4,Nxc4,Nd5,Nce5,Nxe5,Nxe5,Bf6,Nc6,Qd6,Bxf6,Nxf6,Rc1,Nd5,e4,Nb4,Nxb4,axb4,d4,Rxa2,e5,Qd7,Bc6,Qd8,Rc4,Bd7,Bxd7,Qxd7,Rxb4,Ra5,Rc4,Rd5,Qc1,Rc8,Rd1,b5,Rc5,c6,b4,Rxc5,dxc5,Qc7,Rd6,Rd8,Qf4,g6,Qf6,Rf8,h4,h5,Qf3,Qb8,Qxc6,Rc8,Qf3,Qa7,Qf6,Qa1+,Kg2,Qb1,Qf4,Qb3,Rd7,Rf8,c6,Qc4,c7', 'Qc6+,Kh2,Qxd7', 'https://lichess.org/training/8H7k7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8h90f', 'Blitz', 'FM ilija83gr', 2407, 'elob', 2314, 'e4,c5,Nc3,e6,f4,a6,Nf3,Qc7,d4,cxd4,Nxd4,Nc6,Nb3,Bb4,Be3,b5,Bd3,Bb7,O-O,Nge7,a4,Bxc3,bxc3,bxa4,Rxa4,O-O,e5,g6,Bc5,Rfe8,Qe2,Nd5,Qd2,Nce7,Be4,Nb6,Bxb7,Qxb7,Na5,Qc7,Qd6', 'Qxd6,Bxd6,Nxa4', 'https://lichess.org/training/8h90f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8hb4Q', 'Rapid', 'cj21101997', 1688, 'OndraAAA', 1678, 'd4,b6,e4,Bb7,d5,Nf6,Bd3,e6,c4,exd5,cxd5,Be7,Nc3,O-O,Be3,c6,dxc6,dxc6,Nf3,Nbd7,O-O,Nc5,Bc2,Qc7,Bxc5,Bxc5,Qe2,Nh5,Nd2,Nf4,Qf3,Rad8,Nb3,Bd6,Rad1,Ba6,Rfe1,Rfe8,Nd4,Ng6,Nf5,Bxh2+,Kh1,Bd6,Nxd6,Rxd6,Rxd6,Qxd6,Rd1,Qe5,Bd3,Bc8,Bc4,Rf8,Rd3,Qg5,Re3,Bg4,Qg3,Qh5+,Kg1,Ne5,Bb3,Rd8,f3,Bc8,Qh2,Qg5', 'f4,Qe7,fxe5', 'https://lichess.org/training/8hb4Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8HBh4', 'Rapid', 'laeca53', 2008, 'wishiwasbetter', 2016, 'e4,Nc6,d4,e5,Nf3,exd4,Nxd4,Bc5,Be3,Qf6,c3,Nge7,Be2,O-O,O-O,Bb6,Qd3,d6,Nd2,Ne5,Qc2,N7g6,f4,Ng4,Bxg4,Bxg4,Rae1,Rfe8,Nc4,Bd7,Nxb6,axb6,a3,Ba4,Qd3,Bd7,Ne2,h6,Bd4,Qe7,f5,Ne5,Qg3,Bb5,f6,Qf8,Rf5,Ng6,fxg7,Qe7,Ref1,Bxe2,Rxf7,Qxf7', 'Rxf7,Kxf7,Qf2+', 'https://lichess.org/training/8HBh4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8he0U', 'Blitz', 'HelloOpponent', 2262, 'Kombinator87', 2265, 'c4,Nf6,Nc3,e6,e4,d5,e5,d4,exf6,dxc3,bxc3,Qxf6,d4,b6,Nf3,Bb7,Be2,h6,O-O,Bd6,a4,O-O,a5,c5,Be3,Rc8,axb6,axb6,Rxa8,Bxa8,dxc5,Bxc5,Bxc5,bxc5,Qb3,Nd7,Rd1,Ne5,Nxe5,Qxe5,Qc2,Rb8,Qd3,Qe4', 'Qd8+,Rxd8,Rxd8+,Kh7,Bd3', 'https://lichess.org/training/8he0U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8HHKa', 'Rapid', 'TheDrummerPenguin', 2031, 'Mizuna', 2001, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,Nc3,Bc5,Nf3,Qe7,Be2,Bxc4,d4,Bb6', 'Qa4+,Nc6,Qxc4', 'https://lichess.org/training/8HHKa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8hKRX', 'Rapid', 'Liuckas', 1948, 'Artemkov', 1801, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,c6,Bc4,Bg4,h3,Bxf3,Qxf3,e6,d3,Nf6,Bd2,Qc7,O-O-O,Nbd7,Rde1,O-O-O,Bf4,Bd6,Bxd6,Qxd6,Ne4,Nxe4,Qxe4,Nf6,Qe3,Nd5,Qxa7,Qf4+,Kb1,Rhe8,Bxd5,cxd5,a4,Re7,a5,Rc7,a6,Qb4,axb7+,Rxb7,Qa2,Rd6,Kc1,Qf4+,Kb1,Rdb6,b3,Rc6,Re2,Rbc7,Rhe1,Qh2,Qa3,Qxg2,Qf8+,Kb7,Kb2,Qg6,Ra1,Qf6+,Kb1,Rc8,Qb4+,Kc7', 'Ra7+,Kd8,Qf8#', 'https://lichess.org/training/8hKRX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Hlbo', 'Rapid', 'AKgs', 2032, 'adjox', 2074, 'd4,Nf6,f4,d6,Nf3,Nbd7,Nbd2,c6,e4,e5,fxe5,dxe5,dxe5,Ng4,Bd3,Ndxe5,Nxe5,Nxe5,Qe2,Bg4,Qe3,Qa5,O-O', 'Bc5,Nb3,Bxe3+', 'https://lichess.org/training/8Hlbo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8hM3M', 'Rapid', 'Svendra', 2054, 'kamilen777', 1812, 'e4,b6,d4,Bb7,Bd3,d6,Nf3,Nd7,O-O,Qb8,Re1,c6,e5,e6,Bf4,Qc7,c3,O-O-O,a4,dxe5,Bxe5,Nxe5,Nxe5,f6,Nc4,Bd6,h3,e5,Qg4+,Kb8,Nxd6,Rxd6,Na3,h5,Qe2,exd4,Nc4,dxc3,Nxd6,cxb2,Qxb2,Qxd6,Bg6,Ne7,Rad1,Qc7,Be4,f5,Bf3,Rh7,Qe2,g5,Bxh5,a6,Bf3,g4,Bxg4,fxg4,Qxg4,Ka7', 'Rd7,Nd5,Rxc7', 'https://lichess.org/training/8hM3M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Ho4K', 'Bullet', 'pepigoras', 1753, 'Crispar2008', 1730, 'e4,e5,Nf3,Nc6,Bb5,Bc5,Bxc6,dxc6,O-O,Bg4,h3,Bh5,g4,Bg6,Nxe5,Nf6,Nd3,Bb6,e5,Ne4,Nf4,O-O,d3,Ng3,Re1,Qh4,Kg2,Bxf2,Kxf2,Ne4+,Kg1', 'Qf2+,Kh1,Ng3#', 'https://lichess.org/training/8Ho4K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8hOXM', 'Rapid', 'firteya', 1899, 'robertost', 1904, 'd4,b6,c4,Bb7,Nc3,e6,e4,Bb4,Bd3,Nf6,Qc2,c5,d5,Qe7,Ne2,exd5,exd5,d6,O-O,Nbd7,Re1,O-O,Bg5,Qe5,Bf4,Qh5,Bxd6,Rfe8,a3,Ba5,Rab1,Bxc3,Nxc3,Ne5,Bxe5,Rxe5,b4,Rae8,Rxe5,Qxe5,bxc5,Ng4,g3,Qh5,h4,Ne5,cxb6,axb6,Rxb6,Nf3+,Kf1,Re1+,Kg2,Rg1+,Kh3,Rh1+,Kg2,Ne1+,Kxh1', 'Qf3+,Kg1,Qg2#', 'https://lichess.org/training/8hOXM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8HpAY', 'Rapid', 'amir_ramy1', 1829, 'mitoro1977', 1801, 'd4,Nf6,c4,Ng4,Nc3,Nxf2,Kxf2,e5,dxe5,Bc5+,e3,Nc6,Nf3,O-O,Bd3,d6,exd6,Bxd6,Re1,Ne5,Nxe5,Qh4+,Kg1,Bxe5,h3,Bxh3,gxh3,Qg3+,Kf1,Qxh3+,Kg1,Bh2+,Kf2,Qg3+,Ke2', 'Qg2#', 'https://lichess.org/training/8HpAY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8hpcq', 'Classical', 'KZplayerN1', 1725, 'AlecMusasa', 1814, 'e4,g6,Nf3,Bg7,Bc4,Nc6,d4,e5,d5,Nd4,Nxd4,exd4,O-O,c5,Qf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,Bg5,h6,Bh4,g5,Bg3,h5,h3,g4,Qf4,Be5,Qg5,gxh3,gxh3,Bf6,Qd2,h4,Bh2,Nh6,Kh1,Qxh3,Qd3,Qd7,Nd2,Ng4,Qf3,Nxh2,Kxh2,Be5+,Kh1,h3,Nc4,f6,Nxe5,fxe5,Rg1,O-O-O,Rg3,Rdf8,Qe2,Rf4,Rag1,Rhf8,Rg8,Rxf2', 'Qxf2,Rxg8,Rxg8+', 'https://lichess.org/training/8hpcq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8HPhF', 'Classical', 'Whisy', 1760, 'irenereilly', 1813, 'e4,c6,Nf3,d5,exd5,cxd5,d4,g6,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Bg7,Re1,Ngf6,c3,O-O,Bg5,Re8,Ne5,Nxe5,dxe5,Ne4,Bf4,Qb6,Rf1,Qxb2,Nd2,Qxc3,Nxe4,dxe4,Rc1,Qb2,a4,Bxe5,Bxe5,Qxe5,Re1,Red8,Qb3,b6,g3,Rd3', 'Qxd3,exd3,Rxe5', 'https://lichess.org/training/8HPhF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8hQBJ', 'Rapid', 'sadecebeyaz', 1634, 'madgav', 1661, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,Nf3,c5,Bg5,Qb6,b3,c4,bxc4,Qb2,Qc3', 'Bb4,Qxb4,Qxb4+', 'https://lichess.org/training/8hQBJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8HrBR', 'Blitz', 'GOKULA_KRISHNA_M', 1670, 'Ansairemish', 1558, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d3,O-O,O-O,h6,h3,d6,Re1,Bb4,Bd2,a6,a3,Ba5,b4,Bb6,Be3,Nd4,Na4', 'Nxf3+,Qxf3,Bxe3,Qxe3,b5', 'https://lichess.org/training/8HrBR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8hrX7', 'Rapid', 'Samagace69', 1753, 'mauriciohr1111', 1733, 'Nf3,Nc6,b3,e5,e3,d5,Bb2,Bg4,Be2,e4,Nd4,Bxe2,Nxe2,Qg5,O-O,Nf6,Nf4,Bd6,Bxf6,gxf6,Nh3,Qg7,g3,O-O-O,Nc3,Ne7,Nb5,Kb8,Nxd6,Rxd6,d4,h5,Nf4,h4,c4,hxg3,fxg3,f5,c5,Rdh6,Rf2,c6,Qe2,Qg5,Rg2,Qg7,Rb1,a6,b4,Qg5,a4,Ng6,b5,Ne7,bxa6,Ka7,Rxb7+,Ka8,Qb2,Rxh2,Rxh2,Qxg3+,Rg2,Qxe3+,Qf2', 'Qc1+,Qf1,Rh1+,Kxh1,Qxf1+,Kh2,Qxf4+', 'https://lichess.org/training/8hrX7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8HSbz', 'Rapid', 'Bura98', 1841, 'gsdpctech', 1752, 'd4,Nf6,Nc3,e6,Nf3,b6,e4,d6,Bb5+,Nbd7,e5,dxe5,Nxe5,a6,Bc6,Rb8,Qf3,Bb4,Qg3,O-O,Bh6,Nh5,Qg4,Ndf6,Qg5,Kh8,Bf3,gxh6,Qh4,Ng7,Nc6,Bxc3+,bxc3,Nf5,Qf4,Qd6', 'Qxd6,Nxd6,Nxb8', 'https://lichess.org/training/8HSbz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8HsI8', 'Rapid', 'trautz', 1816, 'scuzzi', 1806, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Bc4,O-O,Bb3,e6,O-O,d5,exd5,exd5,h3,Nxd4,Bxd4,Be6,Qd2,Ne4,Nxe4,dxe4,Rad1,Bxb3,axb3,f5,Qc3,Rc8,Bxg7,Qxd1,Qxc8', 'Qxf1+,Kxf1,Rxc8', 'https://lichess.org/training/8HsI8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Htqr', 'Blitz', 'Mischer86', 2422, 'Agen2016', 2419, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,f4,dxe5,fxe5,Nc6,Be3,Bf5,Nc3,e6,Be2,Bb4,Nf3,Na5,c5,Nd5,Bd2,Nc6,O-O,O-O,Qb3,Bg4,Bg5,Bxf3,Bxd8,Nxd4,Qc4,Nxe2+,Nxe2,Bxe2,Qxe2,Bxc5+,Kh1,Raxd8,Rac1,Bd4,Rcd1,c5,Rd3,Nb4,Rh3,Nc6,Qb5,Rd7,Re1,a6,Qd3,h6,Qg3,Bxe5,Qg4,Bf6,g3,Kh8,b3,Rd4,Qf3,Ne5,Qxb7,Ng4,Rh5,Rfd8,Re2,Rd1+,Kg2,R1d2,Rxd2,Rxd2+,Kf3,Nxh2+,Rxh2,Rxh2,Qxa6,Rc2', 'Qa8+,Kh7,Qe4+,g6,Qxc2', 'https://lichess.org/training/8Htqr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Hw3b', 'Rapid', 'arkinEY', 1692, 'vsvab', 1767, 'e4,e5,Nf3,f5,Nc3,d6,Bc4,h6,d4,Nc6,dxe5,dxe5,Bd2,Bd6,Bxg8,Rxg8,O-O,f4,Nd5,Bg4,h3,Bh5,c4,Nd4,Kh1,Bxf3,gxf3,Qh4,Kh2,Qh5,Nxc7+,Bxc7,Qa4+,Kf7,Qd7+,Kf8', 'Bb4+,Bd6,Bxd6#', 'https://lichess.org/training/8Hw3b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8HWrP', 'Classical', 'eric_usap', 1919, 'pawnpawer', 1911, 'e4,e6,d4,d5,Nd2,a6,c3,c5,Bd3,Nc6,Ngf3,cxd4,cxd4,dxe4,Nxe4,Bb4+,Bd2,Bxd2+,Qxd2,Nf6,O-O,O-O,Nxf6+,Qxf6,a3,Rd8,Ne5,Nxd4,Rfe1,Nb3,Bxh7+,Kxh7,Qc2+,Kg8,Qxb3,Rd2,Nd3,b5,Qc3', 'Qxc3,bxc3,Rxd3', 'https://lichess.org/training/8HWrP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8I48E', 'Blitz', 'NM mfcampeao', 2210, 'mensob', 2179, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Nbd7,Bg5,c6,e3,Qa5,Bxf6,Nxf6,Bd3,Bb4,Qb3,O-O,O-O,Bxc3,bxc3,b6,Ne5,Bb7,f3,Rac8,Rac1,Ba6,Rfe1,Rfd8,e4,c5,cxd5,Bxd3,Nxd3,c4,Qb4,cxd3,Qxa5,bxa5,Red1,exd5,e5,Nd7,Rxd3,Nb6,f4,Rc6,f5,Rdc8,g4,Na4,c4,Rxc4,Rb1,Rc1+,Rd1,Rxd1+,Rxd1,Rc2,Rb1,Nb6,a3,Rc3,Ra1,Rc2,Rb1,Kf8,Rb5,Rc4,Rxa5,Ra4,Rc5,Rxa3,Rc7,Ra2,g5,g6,f6,Ke8,Re7+,Kf8,Rb7,Ke8,Re7+,Kf8,Rb7,Rc2,Rxa7,Rc8,Rb7,Nc4,Rd7,Ne3,Kf2,Ke8', 'Re7+,Kf8,Kxe3', 'https://lichess.org/training/8I48E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8i98M', 'Rapid', 'niponronin', 1905, 'PDVNN', 1960, 'd4,d5,Bf4,Nf6,Nf3,e6,e3,Bd6,Bg3,b6,Bd3,Bb7,c3,Nbd7,Nbd2,Bxg3,fxg3,c5,O-O,Rc8,Qe2,c4,Bc2,Ne4,Rae1,b5,Nxe4,dxe4,Nd2,f5,g4,O-O,Rf2,Qg5,Ref1,g6,a4,a6,h3,Nb6,a5,Nd5,Nxe4,fxe4,Rxf8+,Rxf8,Rxf8+,Kxf8,Bxe4,Qxe3+', 'Qxe3,Nxe3,Bxb7', 'https://lichess.org/training/8i98M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8IaTV', 'Rapid', 'aly-cat', 1822, 'kazined', 1839, 'd4,d5,Bf4,Nc6,e3,Bd7,Nf3,h6,c4,e6,Nc3,dxc4,Bxc4,Bd6,Bg3,Nf6,Ne5,O-O,h3,Bxe5,dxe5,Nh7,O-O,Be8,Nb5,Qe7,Qb3,Na5,Qc3,Bxb5,Bxb5,b6,Rac1,a6,Bc6,Nxc6,Qxc6,Rac8,Rfd1,Rfd8,Rxd8+,Qxd8,f4,Qd2,Bf2,g5,Rc2,Qd1+,Kh2,gxf4,exf4,Nf8,Bxb6,Nd7,Be3,Qd3,Bc1,Nb6,Rc3,Qd5,Be3,Qxc6,Rxc6,Nd5,Bd2,Ra8,g3,a5,a3,a4,Kg1,Rb8,Rc2,Rb3,Kf2,Rd3,Bc3,Ne3,Rd2,Rxd2+,Bxd2,Nd1+,Ke2,Nxb2,Bb4,Nc4,Kd3,Nb6,Ba5,Nd5,Bb4,Kg7,Ke4', 'Nxb4', 'https://lichess.org/training/8IaTV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8icgM', 'Classical', 'spion1977', 1850, 'chsrao', 1839, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Be2,c6,Nf3,Qc7,d4,Nf6,O-O,e6,Bd3,Bd6,h3,h6,Be3,Bf4,Qd2,Bxe3,Qxe3,O-O,g4,Nbd7,g5,hxg5,Qxg5,c5,Ne4,cxd4,Nxd4,Nxe4,Bxe4,Qe5,Qh4,Nf6,Rfe1,Qxd4', 'Bh7+,Nxh7,Qxd4', 'https://lichess.org/training/8icgM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Ieet', 'Blitz', 'FM lsv-ab', 2331, 'Trotzki', 2342, 'd4,g6,Nf3,Bg7,g3,f5,Bg2,Nf6,O-O,O-O,b3,Ne4,Bb2,c5,c4,Nc6,e3,d6,Nbd2,Nxd2,Qxd2,Bd7,Rad1,cxd4,Nxd4,Nxd4,Bxd4,Bc6,Bd5+,Bxd5,Bxg7,Kxg7,Qxd5,Qc7,h4,Rad8,h5,Rf6,Rfe1,e6,Qd4,g5,Qxa7,Rh6,Qd4+,e5,Qd5,b6,Kg2,Rxh5,Rh1,Rxh1,Rxh1,Rc8,Qe6,f4,Qg4,Qc6+,Kg1,h6,gxf4,exf4,exf4,Re8,Kh2,Re4,Rd1,Rxf4,Qe2,Rh4+,Kg3,Re4,Qb2+,Kg6,Qh8,Rf4,Qg8+,Kh5', 'Rh1+,Qxh1,Qe8+,Rf7,Qxf7#', 'https://lichess.org/training/8Ieet');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8IGj7', 'Rapid', 'passer-by', 1607, 'Danilo_Bazilio', 1628, 'e4,c5,Qf3,e6,Na3,Nc6,c3,Nf6,Be2,Be7,d3,O-O,Qg3,g6,h4,h5,f4,d5,f5,Bd6,Qg5,exf5,exf5,Bxf5,Bxh5,Nxh5,Ne2,Qc7,Kd2,Nf4,h5,Nxe2,hxg6,fxg6,Qh4,Kf7,Kc2,Qe7,Nb5,Bxd3+,Kxd3,c4+,Kc2,Bg3,Qh7+,Ke8,Qxg6+,Rf7,Nd6+,Kd7,Nxf7,Rf8,Qg4+,Kc7,Rh7,Rxf7,Rxf7,Qxf7,b4,cxb3+,axb3,Nxc3', 'Qxg3+,Kb6,Qxc3', 'https://lichess.org/training/8IGj7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8iHjv', 'Rapid', 'serfo', 1934, 'Bob1949', 1904, 'e4,c5,Nf3,d6,Nc3,a6,a3,e6,Bc4,Qc7,d3,b5,Ba2,Nc6,Bd2,Nf6,Qc1,Be7,h3,O-O,Ng5,Nd4,h4,h6,Nf3,Nxf3+,gxf3,Kh7,Ne2,d5,Ng3,dxe4,fxe4,Bb7,Rg1,c4,Bf4,e5,Bxh6,gxh6', 'Nf5,Ng4,Rxg4', 'https://lichess.org/training/8iHjv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8iIWv', 'Rapid', 'Guba010101', 1644, 'kapoorn', 1611, 'e4,c5,Nf3,d6,c4,Nc6,Nc3,e5,Bd3,Bg4,h3,Bh5,O-O,h6,Qb3,Qc7,Nh4,Nd4,Qa4+,Nc6,Nb5,Qd7,Nf5,a6,b3,Nge7,Bb2,Nxf5,exf5,Be7,g4,g6,gxh5,gxh5,Kh1,O-O,Rg1+,Kh8,f4', 'axb5,Qxb5,Ra5,Qxa5,Nxa5', 'https://lichess.org/training/8iIWv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8iJt0', 'Blitz', 'PaBr', 2285, 'FM profaVa', 2469, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,e5,d5,Bb5,Ne4,Nxd4,Bc5,Be3,Bd7,Bxc6,bxc6,O-O,Qe7,f3,Nd6,f4,Nf5,Nxf5,Bxf5,Qd2,O-O,c3,Bb6,Na3,Rad8,Bxb6,cxb6,Rad1,c5,Nc2,Bxc2,Qxc2,d4,cxd4,Rxd4,Rxd4,cxd4,Rd1,Rd8,Qe4,Qc5,Rd3,Qc1+,Kf2,Qxb2+,Kg3,Qxa2,Rxd4,Rxd4', 'Qa8+,Rd8,Qxd8#', 'https://lichess.org/training/8iJt0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8IRjG', 'Rapid', 'FBH', 1942, 'rhazes', 1728, 'e4,c6,d4,Qa5+,Bd2,Qb6,Nf3,e6,Nc3,Qxb2,Rb1,Qa3,Rb3,Qe7,e5,d6,Bg5,Qd7,Ne4,dxe5,Nxe5,Qd5,Nc3,Qa5,Bd2,Nf6,Bd3,Bd6,Ne4,Qd8,Nxd6+,Qxd6,Bc3,O-O,Bb4,Qxd4', 'Bxh7+,Nxh7,Qxd4', 'https://lichess.org/training/8IRjG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8IV5v', 'Rapid', 'Bem00L', 1797, 'sherryboo', 1755, 'e4,e6,d4,d5,exd5,exd5,Ne2,Nc6,Be3,Nf6,Ng3,Bd6,f4,O-O,Qd2,Bg4,Bd3,Re8,Kf1,Qe7,Kf2,Nb4,Re1,Ne4+,Bxe4,dxe4,Nc3,Qh4,a3,Nc6,Kg1,f5,Nb5,Re6,Nxd6,cxd6,d5,Rh6,dxc6,Qxh2+,Kf2,Bf3,Rg1,Rg6,cxb7,Qxg3+,Kf1,Bxg2+,Rxg2,Qf3+,Kg1', 'Rxg2+,Qxg2,Qxe3+,Qf2,Qxf2+', 'https://lichess.org/training/8IV5v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Iv6S', 'Rapid', 'Tangchangya', 1654, 'iborn', 1644, 'Nf3,d5,d4,Nc6,Bf4,Bf5,a3,Nf6,h3,e6,e3,Bd6,Ne5,Ne4,f3,Qh4+,g3,Nxg3,Rg1,Nxf1+,Kxf1,Bxh3+,Ke2,Bf5,Rxg7,Qh2+,Ke1,Qh1+,Kd2,Qxd1+,Kxd1,O-O-O,Nxf7,Bxf4,exf4,Rhg8,Rg4,Rxg4,fxg4,Bxg4+,Kd2,Rf8,Ne5,Rxf4,Nxc6,Rf1,Nxa7+,Kb8,Nb5,h5,N5c3,h4,Ne2,Bxe2,Kxe2,Rg1,Kf2,Rd1,Ke2', 'h3,Kxd1,h2', 'https://lichess.org/training/8Iv6S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8ivmc', 'Rapid', 'Stupid_Human', 2119, 'mahmoudsharifi1983', 1972, 'd4,d5,c4,Nf6,Nc3,c6,Bf4,g6,Qd2,Bg7,Bh6,O-O,Bxg7,Kxg7,e3,Nbd7,h4,Ne4,Nxe4,dxe4,h5,Nf6,hxg6,fxg6,Nh3,Bxh3,Rxh3,e5,Be2,exd4,exd4,Qd6,O-O-O,Rad8,d5,cxd5,cxd5,Qxd5', 'Qh6+,Kg8,Rxd5', 'https://lichess.org/training/8ivmc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8IVn3', 'Blitz', 'IM Machinegunusa', 2480, 'IM michelchess94', 2531, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,d6,c3,g6,h3,Bg7,O-O,O-O,Bg5,h6,Bh4,Re8,Nbd2,b5,Bc2,g5,Bg3,Ne7,d4,Ng6,dxe5,dxe5,a4,Rb8,axb5,axb5,Qe2,Qe7,Bb3,Nh5,Ra7,Nxg3,fxg3,Qc5+,Qf2,Bf8,Bxf7+,Kxf7,Nd4+,Nf4,gxf4,exf4,Rfa1,Kg8,N2b3,Qe5', 'Nc6,Qxe4,Nxb8', 'https://lichess.org/training/8IVn3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8IXhP', 'Blitz', 'Soulahmohamnedkamal', 1828, 'vinakur', 1821, 'd4,d5,c4,c6,Nc3,dxc4,e3,Bf5,Bxc4,b5,Bd3,e6,Bxf5,exf5,Nf3,f6,Qc2,g6,O-O,Na6,b3,Bb4,Bb2,Nh6,a3,Bd6,Rac1,O-O,Ne2,Rc8,Rfd1,g5,Qc3,g4,Ng5,fxg5', 'd5,Qf6,Qxf6,Rxf6,Bxf6', 'https://lichess.org/training/8IXhP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8IXrZ', 'Blitz', 'Jhon90', 1667, 'Chess-Matador', 1734, 'd4,d5,Bf4,Nf6,Nf3,Bf5,Nbd2,h6,e3,e6,c3,Be7,Qa4+,c6,Qb3,Qd7,Ne5,Qc8,f3,O-O,e4,dxe4,fxe4,Nxe4,Nxe4,Bxe4,O-O-O,Nd7,Bd3,Bxd3,Rxd3,Nxe5,Bxe5,Bg5+,Kb1,c5,h4,Be7,g4,c4,Qc2,cxd3,Qxd3,f6,g5,fxe5,gxh6,Qc6,Rg1,e4,Rxg7+,Kh8,Qg3,Bd6', 'Rh7+,Kxh7,Qg7#', 'https://lichess.org/training/8IXrZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8iZbq', 'Bullet', 'sav007', 1726, 'turm20', 1734, 'd4,d5,c4,e6,Nf3,Nf6,Nc3,Be7,g3,c6,Bg2,Nbd7,O-O,O-O,Qc2,b6,cxd5,exd5,Rd1,Bb7,Qb3,Rc8,Ne5,Nxe5,dxe5,Nd7,Bh3,Rc7,e6,fxe6,Bxe6+,Kh8,Bf4,Rc8,Rac1,Bf6,Bd6,Re8,Bf7,Ne5,Bxe8,Qxd6,Bh5,Rd8,Ne4,Qd7,Nxf6,gxf6,Qe3,Qf5,Bf3,Nxf3+,Qxf3,Qxf3,exf3,c5,a3,d4,f4,f5,Rd3,Kg7,Re1,Kf6,h3,h5,Rd2,b5,Rde2,Rd6,Re7,Bf3,Rxa7,d3,Rh7,Kg6,Rhe7,d2,R1e6+,Rxe6,Rxe6+,Kf7,Rd6,d1=Q+,Rxd1,Bxd1,Kf1,Bf3,Ke1,Ke6,Kd2,Kd5,Ke3,Be4,f3,Bc2,g4,hxg4,fxg4,fxg4,hxg4,Ke6,Kd2,Be4,Kc3,Bf3,g5,Kf5,b4,c4,a4,Bc6,a5,Kxf4', 'g6,Ke5,g7,Bd5,a6', 'https://lichess.org/training/8iZbq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8J5Hp', 'Rapid', 'K-G402', 1788, 'doctor-di', 1646, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,h3,Bd6,d4,exd4,Qxd4,f6,c4,Qe7,O-O,Be6,Re1,O-O-O,Qa7,Bc5,Qa8+,Kd7,Qxb7,Nh6,Rd1+,Ke8,Qxc6+,Kf7,Rxd8,Rxd8,Bxh6,gxh6,Nc3,Bxc4,b3,Be6,Qxa6,Bd4,Nxd4,Rxd4,f3', 'Qc5,Kh1,Qxc3', 'https://lichess.org/training/8J5Hp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8j5So', 'Rapid', 'Huanchaca', 1614, 'iman2025', 1675, 'c4,e6,Nc3,Be7,g3,h6,Bg2,c6,Nf3,b6,O-O,Bb7,e3,Nf6,d4,d5,cxd5,Nxd5,Nxd5,cxd5,Ne5,Ba6,Qf3,O-O,Rd1,Nd7,Nxd7,Qxd7,b3,Bb4,e4,Bc3,Qxc3,dxe4,Bxe4,Rac8,Qf3,f5,Bd3,Bb7,Qh5,Qd5,f3', 'Qxd4+,Kg2,Qxa1', 'https://lichess.org/training/8j5So');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8J7Vs', 'Rapid', 'masoudkaramian', 1611, 'Gusgusleseul', 1561, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,e5,Be2,e4,Nh4,g5,Nf3,exf3,Bxf3,Qe5+,Be2,Be6,O-O,Nc6,Bf3,Qc5,d4,Nxd4,Bxb7,Rb8,Be4,f5,Bd3,Bd6,Be3,Rxb2', 'Bxd4,Qxd4,Bb5+,Rxb5,Qxd4', 'https://lichess.org/training/8J7Vs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8J83C', 'Blitz', 'WernerJqn', 2160, 'RomanVega', 2144, 'e4,c5,Nf3,d6,g3,e6,Bg2,Nf6,O-O,Nxe4,d4,d5,Ne5,Nf6,dxc5,Bxc5,Nc3,O-O,Bg5,Be7,Qf3,Nc6,Rfe1,Nxe5,Rxe5,b6,Rae1,Bb7,Qe2,Rc8,f4,Nd7,Rxe6,Bxg5,fxg5,fxe6,Qxe6+,Kh8,Bxd5,Bxd5,Nxd5,Nc5,Qe5,Re8,Ne7,Qd2,g6,h6,Rf1,Qd7,Rf7,Qd1+,Kg2,Qxc2+,Kh3,Rg8,Nxg8,Rxg8,Qh5,Ne4', 'Qxh6+,gxh6,Rh7#', 'https://lichess.org/training/8J83C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8jAFL', 'Rapid', 'pichondelechuza', 1808, 'LDmitriy', 1827, 'e4,e5,Be2,Nf6,d3,d5,exd5,Qxd5,Bg5', 'Qxg2,Bf3,Qxg5', 'https://lichess.org/training/8jAFL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8JBCZ', 'Blitz', 'anders1508', 1683, 'Nandinho', 1791, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bc4,Nf6,O-O,Be7,Re1,O-O,e5,dxe5,Qxe5,Bd6,Qg5,h6,Qh4,Bf5,Re3,Re8,Rf3,Re1+,Bf1,Bxc2,Bxh6,gxh6,Qxh6,Rxb1,Rxb1,Bxb1,Rxf6,Bg6', 'Rxg6+,fxg6,Bc4#', 'https://lichess.org/training/8JBCZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8jcxT', 'Classical', 'thedark66', 2233, 'ImperfectFocus', 2072, 'c4,e5,Nc3,c6,Nf3,e4,Nxe4,d5,cxd5,cxd5,Nc3,Nf6,d4,Nc6,e3,Bg4,Be2,Bd6,h3,Bh5,O-O,a6,Nh4,Bxe2,Qxe2,O-O,b3,Bb4,Na4,b5,Nb2,Re8,Nf3,Bc3,Rb1,Nxd4,Nxd4,Bxd4,Nd3,Ne4,Bb2,Bxb2,Rxb2,d4,Nf4,dxe3,Qxe3,Qf6,Re2,Nd6,Qf3,Rxe2,Qxa8+,Re8,Qf3,g5,Nd5,Qxf3,gxf3,Kg7,Nc7,Re2,Rd1,Nf5,Rd5,Kg6,Nxa6,Rxa2,Nc5,Ra1+,Kh2,Nh4,Ne4,f6,Rxb5,Nxf3+,Kg3,Nd4,Rb6', 'Rg1+,Kh2,Nf3#', 'https://lichess.org/training/8jcxT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8jEKC', 'Rapid', 'charliegrimmett', 1796, 'Queen04', 1713, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,f4,Bf5,Nf3,e6,Bd3,Bg4,O-O,Nc6,d5,exd5,cxd5,Nxd5,Bxh7,Rxh7,Qxd5,Be6,Qb5,Rb8,exd6,Bxd6,Re1,Kf8,Ng5,Rh5', 'Nxe6+,fxe6,Qxh5', 'https://lichess.org/training/8jEKC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8jhfF', 'Rapid', 'taroneh', 1752, 'lacville', 1793, 'Na3,e5,Nf3,Nc6,d4,Bb4+,c3,Bxa3,bxa3,e4,d5,exf3,dxc6,fxe2,Bxe2,bxc6,O-O,Ne7,Bd3,O-O,Rb1,Ng6,Qh5,Qh4', 'Bxg6,Qxh5,Bxh5', 'https://lichess.org/training/8jhfF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8jhM1', 'Blitz', 'csomkuwar', 1600, 'hdayal', 1515, 'd4,d5,c4,e6,Nc3,Nc6,cxd5,exd5,Nf3,Bg4,Bf4,Bb4,e3,Nf6,Be2,Ne4,Qc2,O-O,O-O,Bxc3,bxc3,Re8,Rab1,b6,Ne5,Nxe5,Bxe5,Bxe2,Qxe2,Nxc3,Qg4,f6,Rb3,fxe5,Rxc3,exd4,exd4,Qf6,Rf3,Qg6,Qd7,Qd6,Qf7+,Kh8,Rg3,Rg8,Rh3,Qb4,Qxd5,Rad8', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/8jhM1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Jhtl', 'Classical', 'Psharmxyz', 2018, 'KingConqueror01', 1999, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,g3,Bg4,Bg2,c6,O-O,e6,h3,Bh5,g4,Bg6,Nh4,Nd5,Nxg6,hxg6,d4,Nxc3,bxc3,Bd6,Qf3,Qf6,Qxf6,gxf6,a4,Nd7,a5,a6,Ba3,Bxa3,Rxa3,Kd8,Rb3,Kc7,Rfb1,Rab8,c4,Rhd8,c3,f5,g5,b5,axb6+,Rxb6,c5,Rb5,c4,Rxb3,Rxb3,Rb8,Ra3,Rb1+,Kh2,Nb8,d5,exd5,cxd5,Rb2,Kg3,Rb5,dxc6,Rxc5,f4,a5,h4,Nxc6,h5,gxh5,Kh4,Rc4,Bd5,Rxf4+,Kxh5,a4,Bxf7,Ne5,g6,Kd6', 'g7,Rg4,g8=Q,Rxg8,Bxg8', 'https://lichess.org/training/8Jhtl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8ji1D', 'Classical', 'zaslan', 1661, 'kenichi-senpai', 1792, 'e4,e5,Nf3,Nc6,d4,d6,Bb5,Bd7,O-O,g6,Bg5,Nf6,Bxc6,Bxc6,dxe5,Bg7,exf6,Bxf6,Bxf6,Qxf6,c3,Bxe4,Re1,Qf5,Nbd2,d5,Nd4,Qg5,Nxe4,dxe4,Rxe4+,Kf8,Qf3,Kg7,Ne6+,fxe6,Rxe6,Rhf8,Qxb7,Qc5,Rf1,Rae8,Rc6', 'Qxf2+,Rxf2,Re1+,Rf1,Rfxf1#', 'https://lichess.org/training/8ji1D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8jiIS', 'Blitz', 'IM hell3raiser', 2291, 'TvinkTap', 2279, 'e4,c5,Nf3,Nc6,Bb5,g6,O-O,Bg7,Re1,e5,Bxc6,dxc6,h3,Qc7,d3,Nf6,Nc3,Nd7,a3,Nf8,b4,Ne6,bxc5,Nxc5,Be3,Ne6,d4,O-O,d5,Nf4,Bxf4,exf4,Nd4,Rd8,Rb1,Qe5,Nce2,cxd5,Nf3,Qxe4,Ned4,Bf5,Rxe4,dxe4,Qe2,exf3,Nxf3,b6,Kh2,Rac8,Ne1,Rc3,Rb3,Rdc8,Rxc3,Rxc3,Qe8+,Bf8,Nf3,Rc8,Qe5,Rxc2,Nd4,Rc5,Qe1,Bd7,Nb3,Rd5,Nd2,Bxa3,Ne4,Re5', 'Nf6+,Kg7,Qxe5', 'https://lichess.org/training/8jiIS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8jIXI', 'Blitz', 'Ahmedpasto', 1646, 'makeavelo1', 1710, 'd4,b6,Bf4,Bb7,e3,Nc6,Nf3,e6,c3,Bd6,Bg3,Bxg3,hxg3,Nge7,Nbd2,d6,Qa4,Qd7,Qc2,O-O-O,Bd3,e5,e4,exd4,Nxd4,Nxd4,cxd4,Nc6,Nb3,Rhe8,f3,f5,O-O,fxe4,fxe4,Qg4,d5,Ne5,Bb5,Rf8,a4,Qxg3,a5,Nf3+,Rxf3,Rxf3,axb6,axb6,Bc6,Rxb3,Bxb7+,Kxb7', 'Qc6+,Kc8,Ra8#', 'https://lichess.org/training/8jIXI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8jJtK', 'Rapid', 'Krusssty', 1668, 'atmaca5353', 1628, 'e4,e5,Nf3,d6,d4,Bg4,Be2,exd4,Qxd4,Nc6,Qd1,Nf6,h3,Bh5,Bg5,Be7,Bxf6,Bxf6,c3,O-O,Nbd2,Bxf3,Nxf3,Ne5,Nd4,c5,Nf5,Qb6,Nxd6,Rad8,O-O,Rxd6,Qc2,Rfd8,f4,c4+,Kh1,Nd3,Bxd3,Rxd3,e5,Bh4,Qe2,Rd2,Qxc4,Rxb2,f5,Bg3,Rad1,Bxe5,Rfe1,Bf6,Qe4,Kf8,Rb1,Rxb1,Rxb1,Qa6,Rxb7,Bxc3', 'Qe7+,Kg8,Qxd8#', 'https://lichess.org/training/8jJtK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8jJtU', 'Blitz', 'alexgreenthumb', 1566, 'Guattari', 1631, 'e4,Nf6,f4,Nxe4,Nf3,d5,Be2,Bg4,O-O,e6,d4,Be7,Ne5,Bxe2,Qxe2,Nf6,c3,Nbd7,Nd2,Bd6,Ndf3,Ne4,Ng5,Nxg5,fxg5,Nxe5,dxe5,Be7,Be3,Bxg5,Bxg5,Qxg5,Rf2,O-O,Raf1,f5,Rf3,Rf7,Rg3,Qe7,Qh5,Raf8,Rf4,g6,Qh6,Rg7,h4,Rff7,h5,Qc5+,Kh1,gxh5,Rxg7+,Rxg7,Qxe6+,Kh8,Rxf5,Qc6', 'Rf8+,Rg8,Rxg8#', 'https://lichess.org/training/8jJtU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8JLx5', 'Rapid', 'Protopych', 1696, 'qwaz', 1677, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,d6,O-O,Bd7,Nc3,a6,Bxc6,Bxc6,Be3,d5,Qd2,d4,Nxe5,dxe3,fxe3,Nxe4,Nxc6', 'Nxd2,Nxd8,Nxf1', 'https://lichess.org/training/8JLx5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8JlXq', 'Rapid', 'Shahinckd', 1830, 'DominatorVishy64', 1979, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,a6,Be2,b5,f3,Bb7,O-O,Nbd7,a3,Bg7,Qd2,h5,Rad1,Rc8,Rfe1,Qc7,Bd3,Nc5,Nde2,Nfd7,Nf4,Nxd3,Qxd3,Ne5,Qd2,Nc4,Qc1,Nxb2,Ncd5,Bxd5,Nxd5,Qb7,Rd2,Nc4,Rde2,Nxe3,Qxe3,Rc4,Kh1,e6,Nb6,Bd4', 'Nxc4,Bxe3,Nxd6+,Ke7,Nxb7', 'https://lichess.org/training/8JlXq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8JNC6', 'Rapid', 'divadeiwob', 1773, 'Gondo3057', 1800, 'e4,e5,Nf3,Nc6,Bc4,h6,h3,Nf6,d3,Bc5,O-O,d6,Qe2,O-O,Be3,Bxh3,gxh3,Qd7,Kh2,Nh5,Bxc5', 'Nf4,Ng1,Nxe2', 'https://lichess.org/training/8JNC6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8JOtX', 'Classical', 'Nazghul92', 1738, 'JerodH', 1869, 'e4,e5,Nf3,Nc6,Bb5,Bd6,O-O,a6,Ba4,b5,Bb3,h6,c3,Nf6,d3,O-O,Nbd2,Ne7,Re1,c5,Nf1,Bb7,Ng3,Bc7,Nh4,d5,Nhf5,Nxf5,Nxf5,c4,dxc4,dxc4,Bc2,Qxd1,Rxd1,Bxe4,Bxe4,Nxe4,Rd7,Bb6,Be3,Bxe3,Nxe3,Rfd8,Rad1,Rxd7,Rxd7,g6,Nd5,Kg7,Kf1,Nf6,Nxf6,Kxf6,Ke2,Ke6,Rc7,f5,Rg7,Kf6,Rd7,h5,h4,Re8,Ra7,Re6,g3,f4,gxf4,exf4+,Kf3,Kf5,Rf7+,Rf6,Rxf6+,Kxf6,Kxf4,a5,a3,a4,f3,Ke6', 'Kg5,Kf7,f4,Kg7,f5,gxf5,Kxf5', 'https://lichess.org/training/8JOtX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8jQDZ', 'Rapid', 'samyakthombare', 1823, 'Swanandmdatar', 1637, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,h3,Nf6,O-O,Be7,d3,h6,Nc3,O-O,Be3,Be6,Qd2,c5,Bxh6,gxh6,Qxh6,Nh7,g4,Ng5,Nxe5,Nh7,h4,Bxh4,f4,Qf6,g5,Qxh6,gxh6,Rad8,f5,Bd7,Rf4,Bg5,Rg4,f6,Nf3,Kh8,Nxg5,Nxg5,Rf1,Rg8,Rg2,Nh3+,Kh2,Rxg2+,Kxg2,Ng5,Nd5,Rf8,Ne7,Rf7,Ng6+,Kh7,Nf4,Kxh6,Rh1+,Kg7,Nh5+,Kf8,Nf4,Rg7,Rh8+,Kf7,Nh5,Rg8', 'Rxg8,Kxg8,Nxf6+,Kf7,Nxd7', 'https://lichess.org/training/8jQDZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8jtHg', 'Classical', 'sanraj94', 1642, 'ELSON10', 1618, 'e4,e5,Qh5,Nc6,Bb5,g6,Qh3,Qf6,Bxc6,dxc6,Qf3,Qd6,d3,Bg7,Nc3,a6,Be3,Nf6,Bg5,Bg4,Qg3,O-O-O', 'Bxf6,Qxf6,Qxg4+', 'https://lichess.org/training/8jtHg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8jtL0', 'Rapid', 'Biysk-chess', 1750, 'ratkosto1958', 1760, 'e4,g6,d4,Bg7,c3,b6,Be3,Bb7,Nd2,e6,h4,Ne7,h5,Nbc6,hxg6,Nxg6,Ngf3,Qe7,Bg5,f6,Be3,O-O-O,a4,a5,Qb1,d5,b4,dxe4,Nxe4,Nxb4,cxb4,Qxb4+,Bd2', 'Qxb1+,Rxb1,Bxe4', 'https://lichess.org/training/8jtL0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8jtQV', 'Classical', 'SlavaSharapov', 1899, 'busonolsun56', 2123, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,a6,Ba4,d6,d3,b5,Bb3,Na5,Bd2,Nxb3,axb3,c5,Ba5,Qd7,Nbd2,d5,exd5,Qxd5,Nxe5,Qxe5', 'Re1,Qxe1+,Qxe1+', 'https://lichess.org/training/8jtQV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8JVsQ', 'Rapid', 'renezent', 1712, 'remez', 1701, 'e4,e6,d4,c5,Nf3,cxd4,Nxd4,Nc6,Nf3,Nf6,Nc3,Bb4,Bg5,Ne7,Bd2,O-O,a3,Ba5,Bd3,Bc7,Qe2,b6,Nd4,Bb7,e5,Nfd5,Nxd5,Bxd5,f3,d6,Nb5,dxe5,Nxc7,Qxc7,Bb4,a5,Bc3,e4,Bxe4,Bxe4,Qxe4,Rad8,O-O,Rd5,Qg4,Ng6,h4,Qc5+,Kh1,f5,Qg3,Qe7,h5,f4,Qg4,Rg5,Qh3,Rff5,g4,Rd5,hxg6,Rxg6,Qg2,Rh6+,Kg1,Qc5+,Qf2,Qxf2+,Rxf2,Rdh5,Rff1', 'Rh1+,Kf2,R6h2+,Ke1,Rxf1+,Kxf1,Rh1+,Ke2,Rxa1', 'https://lichess.org/training/8JVsQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Jwoc', 'Rapid', 'steveinpursuit', 2117, 'eyad95', 2073, 'Nf3,c5,e3,Nc6,d4,cxd4,exd4,g6,h4,Bg7,Nc3,d5,h5,Nf6,h6,Bf8,Bg5,Bg4,Qd2,Bxf3,gxf3,e6,O-O-O,Be7,Qf4,O-O,Bd3,Nh5,Rxh5,gxh5,Rg1,Kh8,Nb5,Bxg5,Rxg5,f6,Rg7,f5,Nc7,Qf6,Nxa8,Rxa8,Qc7', 'Qxh6+,Kd1,Qxg7', 'https://lichess.org/training/8Jwoc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8jWwT', 'Rapid', 'SAV312', 1664, 'BulletToothTony', 1845, 'e4,c5,Nf3,e6,Ne5,d6,Bb5+,Ke7,Qh5,dxe5,Qxe5,Qd6,Qg5+,f6,Qh5,Nc6,Nc3,a6,Bxc6,bxc6,O-O,e5,b3,Be6,Ba3,a5,d4,Bf7,Qf5,Bg6,Qxg6,exd4,Qf5,g6,Bxc5', 'gxf5,Bxd6+,Kxd6', 'https://lichess.org/training/8jWwT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8kagu', 'Rapid', 'panchayat', 1725, 'Peku201', 1686, 'c4,g6,d4,Bg7,e4,c6,Nc3,e6,e5,c5,Nf3,cxd4,Nb5,Nc6,Nbxd4,Nxe5,Nxe5,Qa5+,Bd2,Qxe5+,Be3,Ne7,Rc1,O-O,Be2,Qa5+,Bd2,Qxa2,Bc3,Qa6,O-O,Qd6,Nb5,Qf4,g3,Qb8,Bb4,Re8', 'Bd6', 'https://lichess.org/training/8kagu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8kbdw', 'Rapid', 'abdel20', 1854, 'seanos55', 1820, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Bg4,Bg5,Be7,Nbd2,O-O,O-O,Re8,c3,Nbd7,Rc1,c6,Bb1,Qb6,Qc2,h6,Bh4,Rad8,Ne5,Be6,Nxd7,Bxd7,Rce1,g6', 'Rxe7,Rxe7,Bxf6', 'https://lichess.org/training/8kbdw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Kbh2', 'Rapid', 'pikonov', 2095, 'Pie-Oh-My', 1887, 'e4,d5,d4,dxe4,Nc3,Nf6,Bg5,Bg4,Be2,Bxe2,Ngxe2,e6,Bxf6,Qxf6,Nxe4,Qd8,O-O,Be7,c4,b6,N4c3,c5,d5,exd5,cxd5,Bd6,Qa4+,Nd7,Qe4+,Qe7,Rfe1,O-O,Qf3,Rfe8,Kf1,Qg5,Ne4,Qg6,N2c3,Ne5,Qh3,Rad8,Rad1,Nc4,b3,Na3,Nxd6,Qxd6,Ne4,Qg6,Qh4,Nc2,Re2,Nd4,Re3,Rxd5,Ng3,Rf8,Qe4,Qxe4,Rxe4,Rd7,Nf5,Rfd8,Rde1,g6', 'Re8+,Rxe8,Rxe8#', 'https://lichess.org/training/8Kbh2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8kbNt', 'Rapid', 'nikolay_777_1', 1608, 'Alexnevland', 1629, 'd4,e6,Bf4,c5,d5,Nf6,dxe6,fxe6,e3,h6,Qf3,Be7,Qg3,Nc6', 'Bc7,Qxc7,Qxc7', 'https://lichess.org/training/8kbNt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8kcSS', 'Classical', 'Kristian_P', 1667, 'MLatorre', 1668, 'e4,c5,Nf3,f6,Bc4,Nh6,h3,e6,g4,d5,exd5,exd5,Bb5+,Bd7,Bxd7+,Qxd7,Qe2+,Qe7,Nc3,f5,Rg1,fxg4,hxg4,Nc6,Kd1,O-O-O,Qd3,d4,Re1,Qd7,Ne5,Nxe5,Rxe5,Nxg4,Rxc5+,Kb8,Ne4,Bxc5,f3,Rhf8,Nxc5,Qd5,Qb5,Rf7,fxg4,b6,c4,Qh1+,Kc2,d3+,Kb1,Kc8,Qa6+,Kc7,Ne6+,Kd7,Nxd8', 'Qxc1+,Kxc1,Rf1#', 'https://lichess.org/training/8kcSS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8KdfL', 'Rapid', 'werherdea', 1739, 'AgustinLepre', 1785, 'd4,d5,e3,Nf6,c4,c5,dxc5,Qa5+,Nc3,Qxc5,Nxd5,Nxd5,cxd5,e6,dxe6,Bxe6,Qa4+,Bd7,Qe4+,Be7,Qxb7,Bc6,Qc8+,Bd8,Bd2,O-O,Rc1', 'Qxc1+,Bxc1,Ba5+', 'https://lichess.org/training/8KdfL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8khtr', 'Classical', 'Puquito', 2105, 'Somedude3', 2113, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Bb4,e5,Nd5,Qg4,Bxc3+,bxc3,g6,Nb5,O-O,Bh6,Re8,Nd6,Nc6,c4,Nxe5,Qd4,Qf6,Nxe8', 'Nf3+,gxf3,Qxd4', 'https://lichess.org/training/8khtr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8kipM', 'Rapid', 'Skorpion13', 2226, 'Melican', 1941, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,e6,Bc4,Nge7,O-O,a6,Qe2,Ng6,Rd1,Be7,a3,O-O,b4,b5,Bb3,Bb7,Be3,Bf6,Rac1,Rc8,Bc5,Be7,Bxe7,Qxe7,Rd3,Nf4,Qe3,Nxd3,Qxd3,Rfd8,e5,d5,Bc2,g6,Ne2,Qc7,Qe3,Kg7,Nf4,Kh8,Nh5,gxh5,Qh6,Rg8', 'Qxh7#', 'https://lichess.org/training/8kipM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8kJ3l', 'Blitz', 'Vikram1989', 1842, 'Orlan2417', 1853, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,d6,Be2,Nf6,Be3,Be7,f4,e5,Nxc6,bxc6,fxe5,dxe5,Qxd8+,Bxd8,O-O-O,O-O,Bg5,h6,Bh4,Bg4,Bxg4,Nxg4,Rxd8,Rfxd8,Bxd8,Rxd8,h3,Nf6,Rd1,Rd4,Re1,Kf8,a4,Ke7,b3,c5,Re3,c4,b4,a6,b5,axb5,axb5,Nd7,Nd5+,Ke6,c3,Rd3,Rxd3,cxd3,Kd2,Nc5,b6,f5,Nc7+,Kf6,exf5,Kxf5,Ke3,e4,c4,Ke5,Nb5,g5,g4,Nb7,Nd4', 'd2,Nc6+,Kd6,Kxd2,Kxc6', 'https://lichess.org/training/8kJ3l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8KkCK', 'Blitz', 'Michaella_1205', 2160, 'CM papasi', 2626, 'd4,e6,c4,Nf6,Nf3,Bb4+,Bd2,Qe7,Nc3,b6,g3,Bb7,Bg2,O-O,O-O,Bxc3,Bxc3,Be4,Re1,d6,a4,a5,Qd2,Nc6,Rad1,d5,Ne5,Qe8,f3,Bg6,cxd5,Nxd5,e4,Nxc3,bxc3,Nxe5,dxe5,Qxa4,f4,h6,Qd3,Bh5,Rd2,Qc6,h3,Qc5+,Kh2,Qe7,g4,Rad8,Qe3,Rxd2,Qxd2,Rd8,Qe3,Bg6,f5,Bh7,Rf1,Qg5,Qxg5,hxg5,Rf2,b5,Rb2,c6,Kg3,Rd3+,Kf2,Rxc3,Rd2,Kf8,Rd7,a4,Bf1,a3,Ra7,b4,Ra8+,Ke7,Ra7+,Ke8,Ra8+,Kd7,Ra7+,Kc8,Ba6+,Kb8,Rb7+,Ka8,Rxf7,a2,fxe6,a1=Q,e7,Qb2+,Be2,Rc2', 'e8=Q#', 'https://lichess.org/training/8KkCK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8klbp', 'Classical', 'jogo17', 1691, 'Gr8_m8_m8_Im_ir8', 1631, 'd4,e6,g3,Nf6,Bg5,d5,Bg2,c5,e3,Nc6,c3,Be7,Bxf6,Bxf6,Ne2,cxd4,cxd4,O-O,O-O,Re8,Nbc3,a6,h4,b5,Nf4,Bd7,h5,h6,g4,Qc8,Bf3,Bh4,Ng2,Bg5,Be2,e5,Nxd5,Rb8,Nc3,exd4,exd4,f5,Qb3+,Kh8,d5,Nd4,Qd1,Nxe2+,Nxe2,fxg4,f4,Bd8,Rc1,Qb7,Ng3,Bb6+,Kh1,Re7,Re1,Rxe1+,Nxe1,Re8,Ng2,Bf2,Kh2,Qa8,Rc7,Bc8,Qd3,Qb8,Qc3,Bxg3+,Kxg3,Rg8,d6,Be6,a3,Qb6,d7,Rd8,Rc6,Qb8,Rc8,Rxc8,dxc8=Q+,Qxc8,Qxc8+,Bxc8,Ne3,Kh7,f5,Bd7,Kxg4,Be8,Nd5,a5,Nc7,Bc6,Ne6,b4,axb4,axb4,Nd4,Be4,Ne6,b3,Nf8+,Kg8,Ne6,Kf7,Nc5,Bc2,Kf4,Kf6,Ne4+', 'Bxe4,Kxe4,Kg5', 'https://lichess.org/training/8klbp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8kLZ1', 'Rapid', 'Alaa1964Shalaby', 1992, 'Chesspatzeruk-TWITCH', 2056, 'e4,c5,Bc4,e6,Bb3,d5,e5,b5,c3,Nc6,d4,Qb6,Be3,cxd4,cxd4,Nge7,Ne2,Nf5,O-O,Be7,Nbc3,O-O,a3,Bd7,Qd3,Na5,Bc2,g6,g4,Nxe3,fxe3,Nc4,Rab1,Bg5,Nd1,f6,b3,Nxa3,Rb2,fxe5,Rxf8+,Rxf8,dxe5,b4,Nd4,Qc7,Kg2,Qxe5,Nf3,Rxf3,Kxf3,Qxh2,Nf2,Qe5,Ra2,Bb5,Qd4,Qd6,e4,Qf4+,Kg2,Qc1,Bd3,Be3,Qf6,Bxd3,Nxd3,Qg1+,Kf3,dxe4+,Kxe4,Bb6,Qxe6+,Kg7,Qe5+,Kg8,Qf4', 'Qd4+,Kf3,Qxd3+', 'https://lichess.org/training/8kLZ1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8KN54', 'Blitz', 'Kulabhi', 1828, 'Skakac2000', 1860, 'e4,e5,f4,exf4,Nf3,Be7,Bc4,Bh4+,g3,fxg3,O-O,gxh2+,Kh1,Bf6,e5,Be7,Bxf7+,Kxf7,Ng5+,Ke8,Nf7,b6,Nxd8,Bxd8,Qf3,Nh6,Qxa8,Ng4,Qxb8,Ba6,d3,Ke7,Bg5+,Ke6,Bxd8,h5,Qxc7,Rxd8,Qxd8', 'Bb7+,Rf3,Bxf3#', 'https://lichess.org/training/8KN54');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8kN8j', 'Blitz', 'arturoguedez', 1723, 'TinselToes', 1713, 'd4,Nf6,Nf3,e6,Bf4,c5,e3,Nc6,Nbd2,cxd4,exd4,d5,c4,Be7,Rc1,O-O,Bd3,Qa5,a3,dxc4,Bxc4,Nd5,Bg5,Bd6,O-O,Bd7,Ne4,Bb8,Ne5,Nxe5,dxe5,h6,Bxh6,Bxe5,Qg4,f5,Qg6,fxe4,Rfe1,b5,Rxe4,Bf6,Bxd5,exd5,Re7,Bf5', 'Rxg7+,Bxg7,Qxg7#', 'https://lichess.org/training/8kN8j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8KNwg', 'Rapid', 'Tulo', 1939, 'Kruci', 1634, 'd4,d5,Bf4,Nf6,Nf3,Bf5,e3,h6,h3,e6,c4,c5,dxc5,Bxc5,a3,a5,Nc3,Nc6,cxd5,exd5,Be2,O-O,O-O,Qe7,Rc1,Rfd8,Qa4,Ba7,Nb5,Ne4,Nxa7,Nxa7,Rfd1,Bd7,Qxa5,Nb5,Qb6,g5,Bh2,Nbd6,Rxd5,Bxh3,Rc7,Qe6,gxh3,Nxf2,Kxf2', 'Ne4+,Kg2,Qxb6,Rxd8+,Rxd8', 'https://lichess.org/training/8KNwg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8ksoJ', 'Rapid', 'Pilot100', 2056, 'gasel', 1853, 'd4,d5,Bf4,Nf6,e3,c5,c3,Nc6,Nd2,e6,Bb5,Be7,Ngf3,O-O,O-O,Nh5,Bg3,Nxg3,hxg3,Qc7,Bxc6,bxc6,Ne5,cxd4,exd4,f6,Nd3,c5,Rc1,cxd4,cxd4,Qd6,Nb3,Ba6,Qd2,Rac8,Nbc5,Bb5,Rfe1,e5,dxe5,fxe5,Nxe5', 'Rxc5,Rxc5,Qxc5', 'https://lichess.org/training/8ksoJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8KsTR', 'Classical', 'Reychel', 1697, 'soggydacks', 1726, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,Bb4,Bxc6,bxc6,Nxe5,O-O,a3,Bxc3,dxc3,Qe7,Qd4,c5,Qe3,Qxe5,f3,d5,Qxc5,Qe6,Qxc7,Ba6,Be3,dxe4,O-O-O,Qa2,Kd2,Rad8+,Ke1,exf3,Rxd8,Re8,Rxe8+,Nxe8,Qd8,Qe6,Kf2,fxg2,Re1,Qf5+,Kxg2,Bb7+,Kg1', 'Qg4+,Kf1,Qg2#', 'https://lichess.org/training/8KsTR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8kzRg', 'Blitz', 'bilal986', 1774, 'ChessHusky', 1813, 'e4,Nf6,Nc3,d5,e5,Nfd7,d4,c5,f4,cxd4,Qxd4,e6,Bb5,Nc6,Bxc6,bxc6,Nf3,Ba6,Bd2,Rb8,b3,Qa5,a3,c5,Qf2,Qc7,O-O-O,Qb7,Na4,c4,b4,Bb5,Nc3,a5,Nd4,Ba6,b5,Bxa3+,Kb1,Qb6,Ka2,Qc5,bxa6,Rb2+,Ka1,Qb4,Nc6', 'Ra2+,Nxa2,Qb2#', 'https://lichess.org/training/8kzRg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8kZYP', 'Rapid', 'Renny35', 1672, 'anatol57', 1630, 'd4,d5,c4,dxc4,Nf3,e6,e4,b5,a4,Bd7,axb5,Bxb5,b3,Bb4+,Bd2,Qe7,bxc4,Bc6,Bd3,h6,O-O,Nf6,Re1,O-O,d5,Bd7,Nc3,c5,e5,Nh7,d6,Qd8,Be4,Bc6,Nb5,Bxe4,Rxe4,Nc6,Bxb4,cxb4,c5,f5,exf6,Rxf6,Nfd4,Nxd4,Qxd4,Ng5,Re2,a5,Nc7,Ra7,h4,Rxc7,dxc7,Qxd4,c8=Q+,Rf8,Qxf8+,Kxf8,Rc1,Nf7,c6,Nd6,Rxe6,Qd5', 'Rxd6,Qxd6,c7,Qa6,c8=Q+,Qxc8,Rxc8+', 'https://lichess.org/training/8kZYP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8L0pO', 'Rapid', 'Dampfl0k', 1684, 'FRBK', 1688, 'b4,e5,Bb2,d6,e3,Nf6,Nf3,Be6,Be2,Nc6,b5,Ne7,O-O,Ned5,c4,Nb6,Qc2,a6,a4,axb5,axb5,Rxa1,Bxa1,Be7,d4,exd4,Nxd4,O-O,Nxe6,fxe6,Rd1,Qd7,Bd3,g6,Nd2,d5,Nf3,Bc5,Ne5,Qe8,cxd5,Nfxd5,Qxc5,Qd8,Bc4,Qf6,Bxd5', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/8L0pO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8L3h2', 'Blitz', 'MafiaSiciliana', 2053, 'Rdgt', 1937, 'c4,e6,g3,d5,d4,Nf6,Bg2,Be7,Nf3,O-O,O-O,c5,cxd5,exd5,dxc5,Bxc5,e3,Nc6,Nd4,Bg4,Nxc6,bxc6,Qc2,Re8,Qxc5,Rc8,Nc3,a6,h3,Bh5,Re1,Bg6,Ne2,Ne4,Bxe4,Bxe4,Bd2,Qd7,Kh2,Qf5,Rf1,Qf3,Nf4,g5,Rg1,gxf4,Raf1,fxe3,Bxe3,Re6,Bd2,Rce8,Bc3,Rh6,Qd4', 'Rxh3+,Kxh3,Qh5#', 'https://lichess.org/training/8L3h2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8l7rT', 'Blitz', 'Chess3044', 1811, 'nonamy', 1814, 'f4,d5,Nf3,Nc6,b3,e5,fxe5,Bc5,e3,Bg4,d4,f6,dxc5,Nxe5,Be2,Ng6,O-O,f5,Bb2,Nh6,Nbd2,O-O,Rc1,f4,exf4,Rxf4,Nd4,Qh4,Rxf4,Nxf4,Bxg4,Nxg4,N2f3', 'Qf2+,Kh1,Qxg2#', 'https://lichess.org/training/8l7rT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8l8aC', 'Rapid', 'kralevas', 1905, 'Juzwa', 1889, 'e4,e5,Nf3,Nc6,Bc4,Be7,d4,exd4,Nxd4,d6,O-O,Nf6,Nc3,O-O,Be3,Ne5,Bb3,c5,Nf5,Bxf5,exf5,Qc8,Bg5,Qxf5,Bxf6,Bxf6,Nd5,b5,c3,c4,Bc2,Nd3,Nxf6+,Qxf6,Bxd3,cxd3,Qxd3,a6,Qd5,Rfd8,Rad1,Rab8,Rd3,Qe6,Qf3,Qxa2,Qg3,d5,Rfd1,Qxb2', 'Rxd5,Rf8,Qxb8', 'https://lichess.org/training/8l8aC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Lb1c', 'Rapid', 'ybicos', 1870, 'Mo-Roshdy', 1865, 'e4,d6,d4,Nf6,Nc3,Nbd7,Be3,e5,f3,c6,Qd2,Be7,O-O-O,Qa5,Kb1,exd4,Bxd4,O-O,Nd5,Qxd2', 'Nxe7+,Kh8,Rxd2', 'https://lichess.org/training/8Lb1c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Lb4K', 'Rapid', 'maxdonori', 1727, 'Serioga', 1638, 'e4,e5,Nf3,d6,Bc4,h6,Nc3,c6,O-O,Qb6,Nh4,g5,Nf5,Bxf5,exf5,Nf6,Qe2,Be7,Ne4,Nxe4,Qxe4,Bf6,Bb3,Nd7,c3,d5,Qe2,Rg8,d4,e4,f3,Qc7,fxe4,O-O-O,exd5,c5,d6,Qxd6,Bxf7,Rgf8,Be6,cxd4,Qc4+,Kb8,Qd3,Ne5,Qxd4', 'Nf3+,Rxf3,Bxd4+', 'https://lichess.org/training/8Lb4K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Ld4X', 'Classical', 'Nantuko', 2025, 'mohankopparapu', 1988, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,c4,a6,N5a3,Nf6,Nc3,Be7,Be2,O-O,O-O,Nd4,Nc2,Nxe2+,Qxe2,Bg4,f3,Be6,Be3,Rc8,Nd5,Bxd5,cxd5,Nh5,Na3,Nf4,Qd2,f5,Rac1,b5,Rxc8,Qxc8,Rc1', 'Qxc1+,Qxc1,Ne2+,Kf1,Nxc1', 'https://lichess.org/training/8Ld4X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8lfqF', 'Blitz', 'julmiri', 2248, 'FM MrBadbeat', 2277, 'e4,g6,d4,Bg7,Nc3,c6,h4,h5,Be2,d5,e5,Nh6,Nf3,Bg4,Ng5,Bxe2,Qxe2,Nf5,e6,Qb6,exf7+,Kf8,Ne6+,Kxf7,Nxg7,Kxg7,Qe5+,Kh7,Ne2,Nd7,Qe6,Rad8,Qf7+,Ng7,Nf4,Qb4+,c3,Qd6,Nh3,Rhf8,Ng5+,Kh8,Bf4', 'Qxf4,Qxf4,Rxf4', 'https://lichess.org/training/8lfqF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8LgSx', 'Rapid', 'CHESSMS', 1639, 'Diegoooo', 1650, 'e4,e5,Nf3,d6,Bc4,Bg4,d3,Nd7,Be3,Be7,Nbd2,Ndf6,O-O,d5,exd5,Nxd5,Bb3,Ngf6,Nxe5,Bxd1,Raxd1,O-O,Ne4,Nxe4,dxe4,Bf6,Bxd5,c6', 'Bxf7+,Rxf7,Rxd8+,Rxd8,Nxf7', 'https://lichess.org/training/8LgSx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Lpkn', 'Classical', 'IR2-D2', 1718, 'Black7sabbath', 1748, 'e4,e5,Ne2,Nf6,Nbc3,Nc6,d3,d5,Bg5,d4,Bxf6,Qxf6,Nd5,Qd8,Ng3,Bb4+,c3,dxc3,bxc3,Bc5,Be2,O-O,O-O,Be6,c4,Bd4,Rb1,b6,Bg4,Bxd5,cxd5,Ne7,Ne2,c5,Nxd4,cxd4,f4,exf4,Rxf4,Ng6,Rf1,Qg5,Be2,Nf4,Bf3,Rac8,Qd2', 'Nh3+,Kh1,Qxd2', 'https://lichess.org/training/8Lpkn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8LpkX', 'Rapid', 'HarpsichordKnight', 1965, 'zayeddd', 1877, 'e4,g6,d4,Bg7,e5,e6,Nc3,Ne7,Bg5,O-O,Nf3,h6,Bf6,Bxf6,exf6,Nf5,Ne4,d5,Ng3,Qxf6,Nxf5,Qxf5,Bd3,Qf6,Qe2,Nc6,c3,Bd7,Ne5,Nxe5,dxe5,Qg5,g4,Bc6,h4,Qf4,Rh3,Rad8,h5,g5,Bc2,a6,Qd3,Qxe5+,Re3,Qg7,O-O-O,d4,cxd4,Bb5,Qe4,Bc6,Qe5,Rd7,Qc5,Rfd8,Red3,Be4,Re3,Bxc2,Kxc2,Rd6,Qe5,Rc6+,Kb1,Qxe5,Rxe5,f6,Re2,Rcd6,Kc2,c5,d5,exd5,Re7,b5,Rde1,d4,Re8+,Kf7', 'R1e7#', 'https://lichess.org/training/8LpkX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Lqmc', 'Rapid', 'vhorasameeer', 1718, 'Dark_Knight_2899', 1714, 'e4,c5,Nf3,Nc6,d4,e6,Nc3,Nf6,e5,cxd4,exf6,Qxf6,Nb5,Bb4+,Bd2,Bxd2+,Qxd2,O-O,O-O-O,e5,Bc4,a6,Nc7,Ra7,Rhf1,b5,Nd5,Qd6,Bb3,Bb7,Rfe1,Re8,c3,Na5,cxd4,Nxb3+,axb3,Bxd5,dxe5,Qc6+,Qc3,Qxc3+,bxc3,Bxb3,Rd6,Rc8,Kb2,Be6,Nd4,Bc4,f4,a5,f5,b4,cxb4,axb4,e6,Re8,exd7', 'Ra2+,Kc1,Rxe1#', 'https://lichess.org/training/8Lqmc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8LqNG', 'Rapid', 'dufyduck', 1651, 'AndreLima88', 1608, 'Nf3,d5,c4,d4,b4,Bg4,Ne5,Nf6,Nxg4,Nxg4,e3,Nxf2,Kxf2,dxe3+,Kxe3,e5,Qa4+,c6,b5', 'Qd4+,Ke2,Qxa1', 'https://lichess.org/training/8LqNG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8lQv6', 'Blitz', 'john_herrera', 1612, 'bobthebloh', 1592, 'e4,d5,e5,d4,Nf3,Nc6,Bc4,Bg4,O-O,e6,h3,Bxf3,Qxf3,Nxe5,Qe2,Nxc4,Qxc4,Nf6,d3,e5,Bg5,Be7,Nd2,h6,Bh4,Nd5,Bxe7,Nxe7,Nf3,Ng6,Rfe1,O-O,Nxe5,Nxe5,Rxe5,Qd6,Rae1,Rad8,Qb3,b6,c4,dxc3,Qxc3,Qxd3,Qxc7,Rd7,Qc6,Re8,Rxe8+,Kh7,Qe4+,Qxe4,R1xe4,Rd1+,Kh2,Rf1,Rf4,g5,Re7,gxf4,Rxf7+,Kg6,Rxf4,Rb1,Rb4,Kf5,a4,Ke5,g4,Kd5,f4,Re1,Kg2,Re2+,Kf3,Rh2,f5,Rxh3+,Kf4,Rh4,Re4,h5,Kg3,Rxg4+,Kf3,Rg8,Kf4,Kd6,f6', 'Rg4+,Ke3,Rxe4+,Kxe4,Ke6', 'https://lichess.org/training/8lQv6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8LQZA', 'Rapid', 'keic', 1872, '2700172', 1811, 'e4,e5,f4,exf4,Bc4,h6,d4,g5,h4,Bg7,hxg5,hxg5,Rxh8,Bxh8,Qh5,Qf6,e5,Qg7,Nf3,Nh6,Nxg5,d5,Bxd5,Bg4,Bxf7+,Ke7,Qg6', 'Nxf7,Qxf7+,Qxf7', 'https://lichess.org/training/8LQZA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8ltKR', 'Rapid', 'pole51', 1635, 'RSN33', 1655, 'e4,e5,Nf3,d6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Qf3,Qxg5,Bxd5,Bf5,Bxb7,Bg4,Qe3,Qg6,Bxa8,Qxc2,O-O,Bd6,Qc3,Qg6,Bc6+,Nxc6,Qxc6+,Bd7,Qa8+,Ke7,Qxh8,Bh3,g3,e4,Re1,Bxg3,fxg3,Qf5,Qb8,Qc5+,Re3', 'Qxc1+,Kf2,Qf1#', 'https://lichess.org/training/8ltKR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8lvEX', 'Blitz', 'jyothil10', 1644, 'SETHU123', 1598, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e6,Be2,Bb4,Bd2,Nxd4,a3,Ba5,b4,Bb6,Bd3,d6,Be3,e5,O-O,Ng4,h3,Nxe3,fxe3,Ne6,Qf3,O-O,Nd5,Qg5,c4,Bd7,Qe2,Bc6,Rf5,Qh4,Rh5,Qg3', 'Ne7+,Kh8,Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/8lvEX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8LVIi', 'Rapid', 'Gnarly_Dogos', 1756, 'PetrEPL', 1735, 'e4,c5,Nc3,d6,g3,Nc6,Nge2,Nf6,Bg2,g6,O-O,Bg7,Nd5,O-O,c3,Be6,d4,cxd4,Nxd4,Nxd4,cxd4,Nxd5,exd5,Bf5,Be3,Qb6,Qd2,Rac8,Rac1,a6,b3,Bd7,Bh6,Qxd4', 'Qxd4,Bxd4,Bxf8', 'https://lichess.org/training/8LVIi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8LWgN', 'Classical', 'alexandr66', 1632, 'Jack_Lantan', 1723, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nc3,Bd6,d3,Nf6,Bg5,Bg4,h3,Bh5,g4,h6', 'Bxf6,Qxf6,gxh5', 'https://lichess.org/training/8LWgN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8lWkb', 'Classical', 'Freddy86', 1868, 'DS_TAN', 1886, 'd4,Nf6,Bf4,d5,e3,e6,Nf3,c5,c4,a6,Nc3,dxc4,Bxc4,b5,Bb3,c4,Bc2,Bb7,O-O,Be7,a4,b4,Ne2,a5,b3,c3,Ng5,O-O,Ng3,h6,N5e4,Nbd7,Qf3,Bd5,Be5,Nxe4,Bxe4,Bxe4,Nxe4,Nxe5,dxe5,Qc7,Qg3,Rad8,f4,c2,Rac1,Rc8,Nf6+,Bxf6,exf6,g6,Qh4,Kh7,Rf3,Qd7', 'Qxh6+,Kxh6,Rh3#', 'https://lichess.org/training/8lWkb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8LZqh', 'Rapid', 'FCBayernAndre', 2044, 'NeverScaredBe', 2009, 'Nf3,d5,d4,c5,e3,e6,b3,Nc6,a3,a6,Bb2,Nf6,Bd3,h6,Nbd2,b5,c4,bxc4,bxc4,Qc7,O-O,Rb8,Qc2,Be7,dxc5,g5,cxd5,exd5,Bd4,Rg8,Qc3,Nd7,Rab1,g4,Ne1,Rxb1,Bxb1,h5,Ba2,h4,g3,Nxd4,exd4,hxg3,fxg3,Nf6,Qe3,Be6,Nd3,Rh8,Nf4,Qc6,Nxe6,fxe6,Qe5,Rf8,Bb1,Kd7,Bd3,Qa4,Re1,Qc6,Nf1,Ne8,Ne3,Bf6,Qf4,Qa4,Nxg4', 'Bxd4+,Kg2,Rxf4', 'https://lichess.org/training/8LZqh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8M1Ly', 'Rapid', 'Servasky', 1761, 'Pittiwende', 1764, 'e4,d6,d4,Nf6,Nc3,Nc6,Nf3,Bg4,d5,Ne5,Be2,Bxf3,Bxf3,c6,O-O,cxd5,Nxd5,Nxf3+,Qxf3,Nxd5,exd5,Rc8,c3,b6,Re1,Rc7,Bg5,h6,Bh4,Qc8,Bg3,Qd7,Re2,h5,h4,Qg4,Qxg4,hxg4,Bxd6,Rd7,Bb8,Rxh4,Rae1,Rxd5,Bxa7', 'Rdh5,Rxe7+,Bxe7', 'https://lichess.org/training/8M1Ly');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8m3rW', 'Rapid', 'kasparovian', 1669, 'ZurzMansor', 1759, 'd4,e6,e4,c5,c4,cxd4,Qxd4,Nc6,Qd1,Qb6,Nc3,a6,Be3,Qxb2,Bd2,Nd4,Bd3,Nf6,Nge2,Nxe2,Nxe2,Qb6,O-O,Bd6,h3,Qc7,Bc3,b6,f4,Bc5+,Kh1,Bb7,Bxf6,gxf6,Ng3,Rg8,Nh5,f5,Nf6+,Ke7,Nxg8+,Rxg8,Rc1,fxe4,Be2,Qb8,Bg4,Rg7,f5,Qg3', 'f6+,Kd8,fxg7', 'https://lichess.org/training/8m3rW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8M406', 'Blitz', 'yenner777', 2220, 'NM Clavis', 2235, 'e4,d6,d4,Nf6,Nc3,e5,dxe5,dxe5,Qxd8+,Kxd8,Nf3,Bd6,Bc4,Be6,Bxe6,fxe6,Ng5,Ke7,Be3,h6,Nf3,a6,O-O-O,Nc6,Kb1,b5,Nh4,Kf7,a3,Rhb8,Nf3,a5,Nd2,b4,axb4,axb4,Ne2,Ra6,f3,Rba8,Nb3,Na5,Nec1,Ke7,Nxa5,Rxa5,Nb3,R5a6,Kc1,Nd7,Kd2,Nb6,Bxb6,Rxb6,Ke2,Ra2,Rb1,c5,Rhc1,c4,Nd2,Rc6,g3,Bc7,Kd1,Bb6,b3,c3,Nc4,Bd4,Ke2,Rc8,Ra1,Rca8,Rxa2,Rxa2,Kd3,g5,f4,gxf4,gxf4,Kf6,Rf1,Kg6,Nxe5+,Bxe5,fxe5,Ra5,Rf6+,Kg7,Rxe6,Ra1,h4,Rd1+,Kc4,Rd2,Kxb4,Rxc2,Rc6,Re2,Rc4,c2,e6,Kf6,h5,Kxe6,Kb5,Ke5,b4,Kf4,Ka4,Kg5,b5', 'Rxe4,Rxe4,c1=Q', 'https://lichess.org/training/8M406');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8m5Yf', 'Rapid', 'Toquet', 1899, 'BashirMoudarres', 2015, 'd4,Nf6,e3,g6,Bd3,Bg7,c3,Nc6,f4,O-O,Nd2,d5,Ngf3,Ng4,Qe2,Bd7,O-O,Nh6,Ne5,Nxe5,fxe5,Bf5,Bxf5,Nxf5,e4,dxe4,Qxe4,e6,Nf3,c6,Bg5,Qb6,Rab1,c5,g4,h6,gxf5,hxg5,fxe6,cxd4,exf7+,Rxf7,Nxg5,dxc3+,Kg2,Rxf1,Rxf1,Qc6,bxc3,Qxe4+,Nxe4,Bxe5,Rc1,Rc8,c4,Bf4,Rc2,b5,c5,Rc6,h3,a5,Kf2,b4,Ke2,Kf7,Kd3,Ke6,Kc4,Ke5,Kb5,Rc8,Re2,Ra8,Kb6,Kd5', 'Nf6+,Kd4,Re4+', 'https://lichess.org/training/8m5Yf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8m69W', 'Blitz', 'taparillo', 1673, 'GreatCarly', 1686, 'e4,e5,c3,Bc5,Nf3,d6,d4,exd4,cxd4,Bb6,Bc4,Ne7,O-O,O-O,Re1,c6,Nc3,d5,exd5,cxd5,Bb3,Bc7,Bg5,Bg4,Bxe7,Bxf3,Qxf3,Bxh2+,Kxh2,Qc7+,Kg1,Re8,Ba3,Rxe1+,Rxe1,Nc6,Nxd5,Qd8,Ne7+,Nxe7,Rxe7,Qxd4,Rxf7,Kh8,Qxb7,Re8,Qxa7', 'Re1+,Kh2,Qh4#', 'https://lichess.org/training/8m69W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8M8eC', 'Blitz', 'WilfredoB81', 2147, 'SaKinUrS', 2179, 'e4,d5,exd5,Nf6,d4,Nxd5,c4,Nf6,Nf3,Bg4,Be2,e6,O-O,c6,Nc3,Bd6,Bg5,h6,Bh4,Nbd7,Ne4,Be7,Nc3,O-O,Re1,Qc7,Rc1,Rfe8,h3,Bxf3,Bxf3,e5,d5,Bb4,a3,Bxc3,Rxc3,cxd5,cxd5,Qd6,b4,Rac8,Rd3,e4,Bxe4,Nxe4,Rde3,f5,Qd4,Ndf6,Bxf6,Nxf6,Rxe8+,Rxe8,Rxe8+,Nxe8,Qxa7,Qxd5,Qb8,Kf7,Qc8,Qd1+,Kh2,Qd6+,g3,Kg6,h4,Nf6,Qc2,Ng4+,Kg2,Qd5+,Kg1,Qf3,a4,Kh5,b5,f4', 'Qf5+,g5,Qf7#', 'https://lichess.org/training/8M8eC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8m9AG', 'Blitz', 'brassparts1', 2005, 'Fazrin', 2078, 'e4,d5,exd5,c6,Nf3,cxd5,d4,Nc6,Bb5,e6,O-O,Bd6,Bg5,Ne7,c4,f6,Bh4,O-O,c5,Bf4,Nc3,b6,cxb6,Qxb6,Bxc6,Qxc6,Bg3,Bxg3,fxg3,Rb8,Qd2,Bd7,Rfc1,Qb6,b3,e5,Kh1,e4,Nh4,g5,Nf3,exf3,gxf3,Rfe8,Re1,Nf5,Nxd5,Qc6,Ne3,Qxf3+,Ng2,Qd5,Rad1,Rxe1+,Qxe1,Re8,Qf2,Bc6,Kg1,Nxd4,Rxd4', 'Re1+,Nxe1,Qh1#', 'https://lichess.org/training/8m9AG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8mayg', 'Rapid', 'Zaluuha', 1791, 'Mohsen1825', 1682, 'e4,e5,Nf3,Nc6,Bc4,h6,b4,f6,b5,Na5,Bxg8,Rxg8,Nh4,Nc4,Qh5+,Ke7,Ng6+,Kd6,d3,Nb6,f4,c6,fxe5+,Kc7,e6,Bb4+,c3,Bd6,e7,Bxe7,Bf4+,d6,c4,c5,d4,Nxc4,dxc5,Ne5,Nc3,Nd3+,Kd2,Nxf4,Nxf4,dxc5+,Kc2,c4,Rad1,Qe8,Nfd5+,Kb8,Qxe8,Rxe8,Nxe7,Rxe7,Rd4,Rd7,Rxc4,Rc7,Rxc7,Kxc7,Nd5+,Kd6,Rd1,Be6', 'Nb6+,Kc5,Nxa8', 'https://lichess.org/training/8mayg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8mbHD', 'Rapid', 'onurb12', 1900, 'Rojavida', 1884, 'e4,c5,Bc4,e6,Nc3,Nf6,d3,d6,Bg5,Be7,f4,h6,Bh4,O-O,e5,dxe5,fxe5,Nfd7,Bxe7,Qxe7,Nf3,Nc6,Qe2,a6,a3,b5,Bb3,Nd4,Nxd4,cxd4,Nd1,Bb7,O-O,Qg5,Re1,Nc5,g3,Nxb3,cxb3,Rac8,Nf2,Rc5,Ne4,Bxe4,Qxe4,Rfc8,Qxd4,Rc2,Rf1,Qd2,Rf2,Rc1+,Rxc1,Rxc1+,Kg2,Qe1,Kh3,Qg1,Qd8+,Kh7,Rxf7,Qd1,Qf6', 'Qh5+,Kg2,Rc2+', 'https://lichess.org/training/8mbHD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8md37', 'Classical', 'difford', 1784, 'ashwanikr', 1732, 'e4,c5,Nf3,Nc6,Nc3,a6,d3,g6,Be3,e6,Be2,b5,a3,Bb7,d4,cxd4,Nxd4,Bg7,Nxc6,Bxc3+,bxc3,Bxc6,Bd4,Nf6,f3,O-O,Qd2,d5,exd5,Bxd5,Qg5,Kg7,h4,Re8,h5,e5,h6+,Kh8', 'Bxe5,Rxe5,Qxe5', 'https://lichess.org/training/8md37');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8MDNZ', 'Rapid', 'Argon9696', 1981, 'Sudung', 2086, 'e4,Nc6,d4,d5,e5,Bf5,Nf3,e6,c4,Be4,Be3,h5,Nc3,Bb4,Bd3,Bxd3,Qxd3,Na5,cxd5,Qxd5,O-O,Bxc3,bxc3,Nc4,Rab1,b6,Rb4,Nxe3,fxe3,Ne7,Ng5,f5,exf6,Qxg5,Rb5,Nd5,Rxd5,Qxd5,fxg7,Rg8,Qg6+,Kd7,e4,Qd6,e5,Qd5,Qf7+,Kc6,Rf6,Kb7,Rxe6,Rxg7', 'Rxb6+,axb6,Qxd5+', 'https://lichess.org/training/8MDNZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8me9y', 'Rapid', 'Topalski', 1692, 'detailDevil', 1711, 'e4,e5,Bc4,Nf6,d3,Bc5,Nf3,d6,Bg5,O-O,O-O,h6,Bh4,Nc6,a3,Bg4,Nc3,Nd4,Na4,b5,Nxc5,dxc5,Ba2,Qd6,Bg3,Nxf3+,gxf3,Bh3,Re1,Nh5,Kh1,Nf4,Rg1,Rad8,Bh4,Rd7,Rg3,Qd4,c3,Qxf2', 'Rxg7+,Kxg7,Bxf2', 'https://lichess.org/training/8me9y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8mfoV', 'Rapid', 'gromila123', 1673, 'zerwal', 1865, 'd4,d6,e3,Nf6,Nd2,g6,Bd3,Bg7,f4,Bg4,Ngf3,Nc6,h3,Bxf3,Nxf3,Nb4,O-O,Nxd3,cxd3,Nh5,Kh2,f5,Bd2,Qd7,Ng5,h6,Nf3,O-O-O,Be1,Bf6,Bh4,Bxh4,Nxh4,g5,Qxh5,gxh4,Qxh4,Qc6,b3,Rhg8,Rg1,Rg6,Qxe7,Rdg8,e4,Qc2,Rac1', 'Rxg2+,Kh1,Rh2#', 'https://lichess.org/training/8mfoV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8MIc5', 'Classical', 'TreyHardee', 1798, 'sin29', 1848, 'c4,e5,Nc3,Nc6,Nf3,f5,g3,Nf6,Bg2,Bc5,e3,O-O,d4,Bb4,dxe5,Bxc3+,bxc3,Ng4,O-O,Ngxe5,Qd5+,Nf7,Qxf5,d6,Qf4,Nfe5,Qe4,Kh8,Nxe5,Nxe5,Qd4,Bh3,f4,Bxg2,Kxg2,Nc6,Qd5,Qd7,Ba3,Rf5,Qd3,Na5,c5,Qc6+,e4,dxc5,Kg1,c4,Qd4,Rf7,Rad1,Qe8,Bb4,Nc6,Qxc4,a5,Ba3,Rb8,Rb1,b6,e5,Rd8,Rfd1,Rfd7,Rxd7,Qxd7,Qe2,Qe6,Rc1,Nb8,c4,c5,Rc2,Nc6,Rd2,Nd4,Qf2,Qxc4,Bb2', 'Nf3+,Qxf3,Rxd2', 'https://lichess.org/training/8MIc5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8mk1r', 'Rapid', 'NastyaKv', 2179, 'Neotron2001', 1916, 'e4,b6,d4,Bb7,Bd3,e6,Qe2,Nf6,Nd2,d6,c3,Nbd7,f4,h6,Ngf3,Be7,O-O,O-O,e5,Nd5,Ne4,f5,exf6,N7xf6,Nxf6+,Bxf6,Qxe6+,Kh8,Qf5', 'Bxd4+,Nxd4,Rxf5', 'https://lichess.org/training/8mk1r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8MKm1', 'Rapid', 'FIDEKO', 2111, 'RudiCigelski', 2132, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,f4,c5,c3,Nc6,Ngf3,f6,Be2,fxe5,fxe5,Be7,O-O,O-O,Rf2,cxd4,cxd4,Qb6,Nf1,Nxd4,Nxd4,Rxf2,Kxf2,Bc5,Be3,Nxe5,Rc1,Bd7,a3,a5,Qb3,Bxd4', 'Qxb6,Bxb6,Bxb6', 'https://lichess.org/training/8MKm1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8mkM4', 'Classical', 'DrdQazmWz4phwpUgWU0g', 1818, 'Ionov_Vladimir', 1693, 'd4,d5,c4,dxc4,Nc3,Nf6,e3,e6,Bxc4,Be7,Nf3,O-O,O-O,Nc6,b3,a6,Bb2,b5,Bd3,Nb4,Be4,Nbd5,Bxd5,exd5,Rc1,c5,dxc5,Bxc5,Nxb5,Bxe3,Bxf6,Qxf6,fxe3,axb5,Qxd5,Rxa2,Nd4,Qg6,Nxb5,Bh3,Rf2,Rxf2,Kxf2,Be6,Qd1', 'Qf5+,Kg1,Qxb5', 'https://lichess.org/training/8mkM4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8MkyY', 'Blitz', 'arsessi', 1579, 'gambett', 1536, 'e4,e5,Nc3,Nf6,Bc4,Nc6,d3,h6,Nge2,Bc5,h3,d6,O-O,Be6,Bb3,d5,exd5,Nxd5,Kh1,Qd7,Kh2,O-O-O,f4,g5,fxe5,Nxe5,Ne4,g4,Nxc5,Qd6,Nxe6', 'Nf3+,Kh1,Qh2#', 'https://lichess.org/training/8MkyY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8MlGl', 'Rapid', 'Pet-3-ca', 1938, 'Cauac', 1928, 'd4,g6,Nf3,Bg7,Bf4,d5,e3,Nf6,Be2,O-O,O-O,b6,Nbd2,c5,c3,Bb7,h3,Nc6,Re1,Rc8,Bd3,c4,Bc2,b5,e4,Nxe4,Nxe4,dxe4,Bxe4,e6,Ne5,Qb6,Qf3,Nxe5,Bxe5,Bxe4,Rxe4,Rcd8,Rae1,Rd5,Bxg7,Kxg7,Re5,Rfd8,h4,a5,Rg5,h6,Rge5,b4,h5,g5,Qe2,Qc7,Qd2', 'Rxe5,Rxe5,Qxe5', 'https://lichess.org/training/8MlGl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Mllj', 'Blitz', 'mechchess', 1880, 'undertaker_wcw', 1798, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,a6,Bxc6+,bxc6,dxe5,Bg4,exd6,cxd6,Nc3,Be7,h3,Bxf3,Qxf3,Nf6,Bg5,h6,Bh4,O-O,O-O-O,Rb8,e5,Nd5,Bxe7,Qxe7,exd6,Qxd6,Nxd5,cxd5,Qxd5,Qb6,Qd4,Qg6,g4,Rbc8,Qd3,Qe6,b3,a5,Rhe1,Qb6,f4,Qf6,Qd4,Qc6,Qd3,a4,Kb1,a3,c4,Rfd8,Qe3,Rxd1+,Rxd1,Re8,Qd2,Qe4+,Kc1,Qf3,Qd7', 'Qc3+,Kb1,Qb2#', 'https://lichess.org/training/8Mllj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8mN4I', 'Classical', 'Badcarma', 1905, 'feyz123', 1894, 'd4,Nf6,c4,c5,d5,d6,Nc3,e6,e4,e5,Nf3,Be7,Be2,O-O,O-O,a6,a3,Bd7,Be3,Qe8,b4,b6,b5,axb5,cxb5,Ra5,a4,Ng4,Bd2,Ra7,Ng5,Nf6,f4,h6,Nf3,exf4,Bxf4,Bg4,Bg3,Nh5,Qe1,Nxg3,Qxg3,Bh5,Nh4,Bxe2,Nxe2,Bxh4,Qxh4,Nd7,Rf3,Qe5,Nc3,Nf6,Re1,Qd4+,Kh1,Qd2,Ref1,Re8,Rg3,Kh8,h3,Rae7', 'Rxf6,Qe1+,Kh2', 'https://lichess.org/training/8mN4I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8mOD2', 'Classical', 'undeservedmate', 1733, 'superposition', 1725, 'e4,c5,c3,Nf6,e5,Nd5,d4,cxd4,cxd4,e6,Nf3,Be7,Bd3,Nc6,O-O,a6,Qc2,Ncb4,Qd2,Nxd3,Qxd3,b5,a4,Nb4,Qe4,Rb8,Qg4,Kf8,Bg5,Nc2,Nc3,Nxa1,d5,Bb7,d6,Bxg5,Nxg5,h5,Qf4,Qe8,Rxa1,Rc8,axb5,axb5,Ra7,Rc4,Qe3,Qc8,Qb6,Bxg2,Kxg2,Rg4+,Kf1,Rxg5,Qc7,Qxc7', 'Ra8+,Qd8,Rxd8#', 'https://lichess.org/training/8mOD2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8mUSd', 'Rapid', 'captaincomeback', 1807, 'grantmasder', 1625, 'd4,Nf6,c4,g6,Nf3,Bg7,Bg5,O-O,e3,d6,Nc3,c5,Rc1,cxd4,Nxd4,Na6,Be2,Nc5,O-O,Ne6,Nxe6,Bxe6,b3,h6,Bh4,g5,Bg3,Rc8,Re1,a6,Bf3,Rc7,Re2,Qb8,Na4,b5,cxb5,axb5,Nc3,Rfc8,Rec2,Nd7,Nd5,Rxc2,Nxe7+,Kf8,Nxc8,Rxc8', 'Bxd6+,Kg8,Bxb8', 'https://lichess.org/training/8mUSd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8MvOA', 'Blitz', 'Ops04', 2213, 'FM SGabor89', 2407, 'e4,c5,d4,cxd4,c3,Nf6,e5,Nd5,Bc4,Nb6,Bb3,Nc6,Nf3,d6,exd6,e6,O-O,Bxd6,Nxd4,O-O,Nxc6,bxc6,Qf3,Bb7,Bc2,Qc7,Qh5,g6,Qh3,Bf4,Nd2,Nd5,Ne4,Bxc1,Raxc1,Qf4,Rce1,Ba6,g3,Qf5,Qh6,Bxf1', 'Ng5,Qxg5,Qxg5', 'https://lichess.org/training/8MvOA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8MWDU', 'Blitz', 'starkers', 1910, 'Xhimi150171', 1953, 'e4,e5,Nf3,Bc5,d4,exd4,Nxd4,d6,Be3,h6,Nc3,a6,Be2,Nf6,O-O,O-O,Qd2,Kh7,f3,Bxd4,Bxd4,Nc6,Bxf6,Qxf6,Bd3,Ne5,Nd5,Qd8,Be2,Be6,f4,Bxd5,Qxd5,Nc6,Bd3,Kh8,a3,Qf6,e5,dxe5,Qe4,g6,g4,exf4,Rxf4,Qxb2,Raf1,Kg7,Bc4,Qe5', 'Rxf7+,Rxf7,Rxf7+,Kh8,Qxg6', 'https://lichess.org/training/8MWDU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8mwEp', 'Rapid', 'sadikmeleqi', 1864, 'frankoidijoo', 1927, 'e4,c5,f4,Nc6,Nf3,e6,Be2,d6,O-O,Be7,Kh1,Nf6,d3,O-O,c3,h6,Nbd2,b5,e5,dxe5,fxe5,Nd7,Ne4,Ncxe5,d4,cxd4,cxd4,Ng6,Bxb5,Qb6,a4,a6,Bd3,Bb7,Be3,Nf6,Nc5,Bd5,a5,Qxb2,Rb1,Qa3,Bxg6,Qxe3,Bd3,Bxc5,dxc5,Qxc5,Nd4,Qxa5,Rxf6,gxf6,Qg4+,Kh8,Qh4,Kg7,Rf1,Rg8', 'Qxf6+,Kf8,Qxf7#', 'https://lichess.org/training/8mwEp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8mWxc', 'Rapid', 'Major_Zuavov', 2103, 'unre17', 2081, 'e4,c5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,e5,d5,d3,f6,O-O,fxe5,Nxe5,g6,Bg5,Nf6,Bxf6,exf6,Nxc6,Qc7,Re1+,Kf7,Ne5+,fxe5,Qf3+,Kg7,Qxd5,Bd6,Nc3,Bb7,Qe6,Rae8,Qh3,Bc6,Ne4,Bxe4,Rxe4,Rhf8,Rae1,Qc6,Rh4,h5,Ree4,Rf4,g3,Rxh4,Qxh4,Rf8,Qg5,Qd7,g4,hxg4,Rxg4,Qf5,Qh4,Rh8,Qg3,e4,dxe4,Bxg3,exf5,Bxh2+,Kg2,Be5,Rxg6+,Kf7,Ra6,Bxb2,Rxa7+,Kf6,a4,Kxf5,a5,Ke4,Re7+,Kd5,a6,Ra8,a7,Kc6,f4,c4,f5,Bd4,f6,Bxa7,f7,Bc5,Re8,Ra2,Rc8+,Kb5', 'Rxc5+,Kxc5,f8=Q+', 'https://lichess.org/training/8mWxc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8myYd', 'Classical', 'ramadan5555', 1621, 'Ahmed8gwad', 1889, 'd4,f5,Nc3,d5,Bf4,e6,e3,Bd6,Bg3,Nf6,Qe2,a6,Nf3,Nc6,a3,Ne4,Ne5,Nxc3', 'Qh5+,g6,Nxg6,hxg6,Qxh8+', 'https://lichess.org/training/8myYd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8mZ6o', 'Blitz', 'CesarIF', 1750, 'sherwinlemonde', 1839, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,Qf6,Qf3,dxc6,Nc3,Qxf3,gxf3,Nf6,Be3,Bb6,Na4,Bd7,Nxb6,axb6,Bd3,Ra5,Bd2,Re5,Rg1,O-O,Bc3,Re6,Bc4,Rd6,Be5,Nxe4,Rxg7+,Kh8,Rg6+,f6,Bxd6', 'Nxd6,Rg8+,Rxg8,Bxg8,Kxg8', 'https://lichess.org/training/8mZ6o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8N0Mj', 'Rapid', 'xavaryn', 1784, 'FaineantFini', 1837, 'd4,d5,c4,Nf6,Nc3,c6,e3,Bf5,Nf3,e6,h3,Nbd7,Be2,Bb4,O-O,O-O,Nh4,Ne4,Nxe4,dxe4,Nxf5,exf5,a3,Bd6,b4,b6,Bb2,f4,exf4,Bxf4,d5,Ne5,Qd4,f6,d6,f5,c5,b5,g3,Qg5,Kh2,Bxg3+,fxg3,f4,g4,f3,Bd1,Qf4+,Kh1,Qg3,Qf2', 'Qxh3+,Qh2,Qxf1+', 'https://lichess.org/training/8N0Mj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8n2HH', 'Rapid', 'Eiyuu_Ou', 1675, 'aberashingen', 1680, 'e4,c5,Bc4,Nf6,Nc3,Nc6,d3,d6,Nf3,g6,a3,Bg7,Bd2,Bg4,O-O,Nd4,h3,Bxf3,gxf3,O-O,Ne2,Nxf3+,Kg2,Nxd2,Qxd2,Nh5,Ng3,Bxb2,Ra2,Nxg3,fxg3,Bd4,Qh6,Qd7,c3,Bg7,Qc1,b5,Bd5,Rab8,Raf2,e6,Ba2,Qc6,Qf4,Bxc3,Qg5,Rb7,Rf4,d5,Rh4,dxe4,dxe4,c4,Qh6,f6,Qe3,Be5,Kh2,c3,Rc1,Rd7,Bb3,Rd2+,Kg1,Rfd8,Qxa7,Bxg3', 'Qxh7+,Kf8,Qh8+,Ke7,Rh7+,Kd6,Qxd8+', 'https://lichess.org/training/8n2HH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8N3VQ', 'Blitz', 'sdiqx', 1788, 'Rabenvater', 1828, 'e3,d5,d4,c6,Be2,Bf5,Nf3,e6,O-O,Nf6,c4,dxc4,Bxc4,Bd6,Qb3,Qc7,Nh4,Bxh2+,Kh1,Bxb1,Rxb1,Bd6,Bxe6,fxe6,Qxe6+,Be7,Nf5,Kf8,Nxe7,Qxe7,Qc8+,Qe8,Qxb7,Nbd7,Qxc6,Rc8,Qa6,Rc7,Bd2,Qc8,Bb4+,Kf7,Qa3,Re8,Qb3+,Kg6,f4,Rc2,f5+,Kg5,Rf3,Qc6,Rg3+,Kh6,Qf7,Rg8,Rf1,Nh5,Rff3,Ndf6', 'Rg6+,hxg6,Qxg6#', 'https://lichess.org/training/8N3VQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8NbiS', 'Rapid', 'Cofi000', 1782, 'capacapax', 1732, 'e4,c5,Bc4,Nf6,d3,e6,Nc3,d5,exd5,exd5,Bb5+,Nc6,Bg5,Be7,Nf3,d4,Bxf6,gxf6,Ne4', 'Qa5+,Nfd2,Qxb5', 'https://lichess.org/training/8NbiS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8nbq9', 'Blitz', 'Gordix', 1778, 'AndyUpNorth', 1782, 'd4,Nf6,Nc3,d5,Bg5,c6,f3,e6,Qd2,Be7,h4,h6,Bf4,Nh5,g3,Nxf4,Qxf4,Bd6,Qg4,O-O,e4,e5,dxe5,Bxg4,exd6,Be6,exd5,Bxd5,O-O-O,Qxd6,Bc4,Qg6,Bd3,Qxg3,Nge2,Qxf3,Rhg1,Qe3+,Kb1,Nd7,Rg3,Qe6,Rdg1,Ne5', 'Rxg7+,Kh8,Rh7#', 'https://lichess.org/training/8nbq9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8nfwY', 'Rapid', 'ScottyTooHotty', 1833, 'Stribro', 1774, 'e4,d6,d4,e6,Nc3,c6,Bd3,Nf6,Nf3,Be7,Bg5,Nfd7,Bxe7,Qxe7,O-O,e5,Qd2,exd4,Nxd4,O-O,Rfe1,Qf6,Nf3,Ne5,Nxe5,Qxe5,Rad1,Nd7,Bc4,Nb6,Bb3,Rd8,f4,Qc5+,Kh1,Bg4,Ne2,Rd7,h3,Bxe2,Qxe2,Re8,e5,dxe5,fxe5,Rxd1,Qxd1,Kf8,Qf3,Re7,e6,f6,g4,Nd5,g5,Qb4,Qf2,Qf4,Qxa7,Qf3+,Kh2,Qf4+,Kg2,Qxg5+,Kh2,Qf4+,Kh1,Qf3+,Kh2,g5,Qa8+,Re8,e7+,Nxe7,Rxe7,Kxe7,Qxb7+,Kd6,Qb4+,Kc7,Qa5+,Kd6,Qd2+,Ke7,Qb4+,Kd7,Qb7+,Kd6,Qb4+,c5,Qb6+,Qc6', 'Qxc6+,Kxc6,Ba4+,Kd6,Bxe8', 'https://lichess.org/training/8nfwY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8nfxi', 'Rapid', 'simplesimpson03', 2386, 'Abozaid987', 2277, 'e4,c5,Nf3,g6,c3,Bg7,d4,cxd4,cxd4,d5,e5,Bg4,Nc3,Nc6,Be2,Bxf3,Bxf3,e6,O-O,Nge7,Bg5,h6,Bxe7,Qxe7,a3,O-O,Rc1,Qh4,Ne2,f6,exf6,Qxf6,Re1,Rac8,Qb3,Nxd4,Nxd4,Qxd4,Rxc8,Rxc8,Qxb7,Rc2,Rf1,Qxf2+,Rxf2', 'Rc1+,Bd1,Rxd1+,Rf1,Bd4+,Kh1,Rxf1#', 'https://lichess.org/training/8nfxi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8nIRg', 'Rapid', 'artbenjamin', 1734, 'Marco1608', 1709, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,d4,Nf6,dxe5,Nxe4,exd6,cxd6,O-O,d5,Re1,Bd6,Nc3,O-O,Nxe4,dxe4,Rxe4', 'Bxh2+,Kxh2,Qxd1', 'https://lichess.org/training/8nIRg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Nkdk', 'Rapid', 'FM royalblue04', 2306, 'ojikoi', 1826, 'c4,c5,Nc3,g6,g3,Bg7,Bg2,Nc6,e4,d6,Nge2,e5,O-O,Bg4,h3,Bxe2,Nxe2,Nge7,d3,O-O,Be3,f5,Qd2,f4,gxf4,exf4,Nxf4,Qd7,Nd5,Ne5,f4,Nxd5,cxd5,Nf7,d4,Bxd4,Bxd4,cxd4,Qxd4,b6,e5,Nh6,e6,Qe7,Rac1,Nf5,Qd3,Qh4,Rc7,Ng3,Rf3,Nf5,Rf2,Ne7,Qd4,Nf5,Qc3,Ne7,Kh1,Rac8,Rc2,Rxc7,Qxc7,Nf5,Qc4,Ng3+,Kh2,Nf5,Rc3,Qf2,Qe4,Ne7,Rf3,Qxb2,Qc4,Qd2,Qd3,Qxd3,Rxd3,Rxf4,Rc3,Kg7,Rc7,Kf6,Rxa7,Rf2,Kg1,Rb2,a4,Rb1+,Kh2,Rb2,Kg1,Rb1+,Kf2,Rb2+,Kf1,Rb1+,Ke2,Rb2+,Kf3,Rb3+,Ke4,Rb4+,Kd3,Rb2,Bh1,Rb3+,Kc4,Rxh3,Bg2,Rh2,Be4,Rh4,Kd3,Rh3+,Kd4,Rh4,Rd7,Nf5+,Kd3,Rh3+,Kd2,Ne7,Ke2,Rh4,Bf3,Rxa4,Rxd6,b5,Rb6,Rb4,Rb8,Nf5,Rf8+,Ke5', 'Rxf5+,gxf5,e7', 'https://lichess.org/training/8Nkdk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8nMEp', 'Rapid', 'Lapantera17', 2231, 'PedjaGalis', 2144, 'e4,c5,Nf3,d6,Nc3,Nf6,Bc4,e6,O-O,Be7,Re1,O-O,d4,cxd4,Nxd4,Nc6,Bg5,Bd7,Qd2,Nxd4,Qxd4,Qc7,Rad1,Rfd8,Bb3,Bc6,h4,Ng4,Rd3,h6,Bxe7,Qxe7,Rh3,h5,f4,Qf6,Qd2,d5,exd5,exd5,Bxd5,Bxd5,Nxd5,Qxb2,Rd3,Kh8,a4,Rac8,Ne7,Qb6+,Kf1,Rxd3,cxd3,Rc3,Nd5,Rxd3', 'Re8+,Kh7,Qxd3+', 'https://lichess.org/training/8nMEp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8NPRE', 'Blitz', 'Matto89', 1700, 'YefimG', 1908, 'e4,e5,Nf3,f5,d3,d6,Nc3,Nc6,exf5,Bxf5,Be2,Qd7,Be3,Nf6,d4,e4,Nd2,d5,Bg5,Be7,Nb3,h6,Bh4,g5,Bg3,O-O-O,Qd2,Bb4,a3,Be7,Be5,Rhf8,Bb5,a6,Be2,Kb8,Na4,Qe8,Nac5,Bxc5,Nxc5,Nxe5,dxe5,Qxe5,Bxa6,bxa6', 'Qb4+,Ka7,Qb7#', 'https://lichess.org/training/8NPRE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8nPy5', 'Rapid', 'randomalbumtitle', 1650, 'jhonjairmarin', 1741, 'e4,e5,Nf3,d6,h3,Nf6,Nc3,Be7,Bc4,Nc6,O-O,Be6,Bxe6,fxe6,Ng5,Qd7,d3,h6,Nf3,O-O-O,Be3,Nd4,Nxd4,exd4,Bxd4,g5,Bxa7,e5,d4,h5,dxe5,Ne8,exd6,Bxd6,Be3,Qe6,Qd4', 'Bh2+,Kxh2,Rxd4,Bxd4,Qd6+,Kg1,Qxd4', 'https://lichess.org/training/8nPy5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8nRT2', 'Rapid', 'Enadir', 1757, 'Hitarth17', 1790, 'd4,e6,c4,d5,Nf3,Nf6,Bg5,Nbd7,e3,Be7,Bd3,O-O,O-O,Ne4,Bxe7,Qxe7,Qc2,Ndf6,cxd5,exd5,Ne5,Be6,Nc3,Nxc3,bxc3,g6,Rab1,Rab8,Rb2,Qd6,Rfb1,b6,c4,dxc4,Bxc4,Nd5,Rb5,c6,R5b2,b5,Bxd5,Bxd5,Qe2,f6,Nf3,Qe6,Re1,a5,e4,Bc4,Qe3,Bxa2,d5,cxd5,Rxa2,dxe4,Rxa5,b4,Nd2,b3,Rb1,b2,Qc3,Rfc8,Qa3,Qc6,Qa2+,Kg7,Ra7+,Kh6,Rxb2', 'Qc1+,Nf1,Rxb2', 'https://lichess.org/training/8nRT2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8nSE7', 'Classical', 'AlphaWeird-0', 1862, 'nikhil1234', 1863, 'e4,e5,Nf3,Nf6,d3,Bc5,c3,h6,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,O-O,e5,Re8,Be2,Nh7,O-O,d6,h4,dxe5,dxe5,Nc6,Bb5,Qd5,Bxc6,Qxc6,Rc1,Qb6,Nc4,Qg6,Ne3,Bh3,Rxc7,Rad8,Re7,Rxd1', 'Rxe8+,Nf8,Rxd1', 'https://lichess.org/training/8nSE7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8NSYT', 'Blitz', 'KirillTsukanov', 1563, 'Robocop33', 1670, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nxc6,bxc6,Bd3,Bg7,c3,d6,O-O,Nf6,Bg5,O-O,Nd2,d5,exd5,cxd5,c4,Ba6,b3,dxc4,Bxc4,Bxc4,Nxc4,Qxd1,Raxd1,Ne4,Bxe7,Rfe8,Bb4,Rad8,Rxd8,Rxd8,f3', 'Bd4+,Kh1,Nf2+,Rxf2,Bxf2', 'https://lichess.org/training/8NSYT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8nt8Z', 'Classical', 'younes2000', 1845, 'kissyfrotsipic', 1872, 'e4,d6,Nf3,Nf6,Nc3,g6,d4,c6,Bd3,Bg7,Bg5,Nbd7,e5,dxe5,dxe5,Ng4,e6,fxe6,Nh4,Nge5,Qe2,Nxd3+,Qxd3,O-O,Rd1,Qb6,O-O,Qxb2,Ne4,Ne5,Qh3,Qxa2,Bxe7,Rf7,Rd8+,Bf8,Nxg6,Nxg6,Qh6,Nxe7,Ng5,Nf5', 'Rxf8+,Rxf8,Qxh7#', 'https://lichess.org/training/8nt8Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8NUeK', 'Rapid', 'jaime_hammer', 1787, 'Oleksandr-dera', 1782, 'Nf3,d5,d4,Nf6,c4,Bg4,Nbd2,dxc4,Qa4+,Nc6,Qxc4,Qd5,Qxd5,Nxd5,h3,Bxf3,Nxf3,Ndb4,Kd1,O-O-O,e3,e5,a3,Na6,Bxa6,bxa6,Ke2,exd4,exd4,Nxd4+,Nxd4,Rxd4,Be3,Rd5,Bxa7,Kb7,Be3,Bd6,Rhd1,Rb5,b4,a5,Rab1,axb4,axb4,Re8,Kf1,Bxb4,Rd4,c5,Rd7+,Kc6,Rxf7,Bc3,Rc1,Rb3,Rf5,Rxe3,fxe3,Kd6,e4,Bd4,Rd1,Re3,Rd5+,Ke6,Rh5,h6,Rh4,Ke5,Re1,c4,Rxe3,Bxe3,Ke2,Bg5,Rg4,c3,Kd3,Bf6,Kxc3,h5,Rg3', 'Kf4+,Kc4,Kxg3', 'https://lichess.org/training/8NUeK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8NUF5', 'Blitz', 'vmazurak', 1834, 'coolshot', 1654, 'd4,e6,c4,Nf6,Nc3,d5,Bg5,Be7,f3,O-O,Qb3,c6,cxd5,cxd5,e4,dxe4,fxe4,Qxd4,Nf3,Qd8,Bb5,Nfd7,Bxe7,Qxe7,O-O,a6,Bc4,b5,Be2,Bb7,Rad1,Nc5,Qc2,Nc6,e5,Rfd8,Rxd8+,Rxd8,Rd1,Rxd1+,Qxd1,Nb4,a3,Nd5,Nxd5,Bxd5,b4,Ne4,Qd4,Qc7,h3,Qc1+,Bf1,Qxa3,Qa7,h6,Qb8+,Kh7,Qf8,Kg6,Nh4+,Kg5,Qxf7,Kxh4', 'Qf4+,Kh5,Qg4#', 'https://lichess.org/training/8NUF5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8nVb5', 'Blitz', 'FM Lex6699', 2438, 'kenota', 1966, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Bg5,e6,Qd2,Be7,O-O-O,a6,f4,h6,Bxf6,gxf6,Be2,f5,exf5,e5,fxe5', 'Bg5,Nf3,Bxd2+', 'https://lichess.org/training/8nVb5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8nVDz', 'Rapid', 'artamehr110', 1731, 'artamehr1390', 1851, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Bd3,e6,Be3,Bb4,a3,Bxc3+,bxc3,Qxc3+,Bd2,Qxd4,Nf3,Qg4,O-O,O-O,h3,Qa4,Re1,Nc6,Be3,a6,Nh2,Bd7,Qf3,Ne5,Qg3,Nxd3,cxd3,Kh8,Bc5,Rfc8,Re3,Qc2,Be7,Nh5,Qg4,Nf6,Bxf6,gxf6,Rg3,Rg8,Qf4,Rxg3,fxg3,Qxd3,Qxf6+,Kg8,Qg5+,Qg6,Qf4,c5,Rd1,Bc6,Ng4,Qc2,Qg5+,Kf8,Rd8+,Rxd8,Qxd8+,Kg7,Qf6+,Kf8,Qd8+,Kg7,Qf6+,Kg8', 'Nh6+,Kf8,Qxf7#', 'https://lichess.org/training/8nVDz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8nwCW', 'Rapid', 'greenfrogblue', 1643, 'mouser79', 1671, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Nf6,Nd5,Nxe4,d3,Nf6,Nxf6+,Qxf6,O-O,Bc5,Re1,d6,Bd5,Ne7,Bb3,g5,Be3,Bxe3,Rxe3,g4,Nd2,h5,c3,b6,d4,Bb7,dxe5,dxe5,Ne4,Qf5,Bc2,Nd5', 'Nd6+,cxd6,Bxf5', 'https://lichess.org/training/8nwCW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8NWHD', 'Rapid', 'Ruslan_Nikitin_1987', 2123, 'cyclo', 2275, 'd4,d5,Nf3,e6,e3,c6,Bd3,Bd6,c3,f5,Nbd2,Nf6,Ne5,Ne4,Nxe4,fxe4', 'Qh5+,g6,Nxg6,hxg6,Qxh8+', 'https://lichess.org/training/8NWHD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8nwK0', 'Blitz', 'RussianGrossKiller', 2353, 'WFM OlympeDG', 2157, 'e4,d6,d4,Nf6,Nc3,e5,dxe5,dxe5,Qxd8+,Kxd8,Bg5,Bd6,O-O-O,Nd7,Nd5,Ke8,Bxf6,Nxf6,Nxf6+,gxf6,f3,Be6,Bb5+,Ke7,h4,a6,Ba4,b5,Bb3,Bxb3,axb3,a5,h5,a4,bxa4,Rxa4,Ne2,b4,g4,Bc5,Kd2', 'Rd8+,Ke1,Rxd1+', 'https://lichess.org/training/8nwK0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Nz0L', 'Rapid', 'arda_b', 2100, 'randyramilo', 2033, 'd4,Nf6,c4,e6,Nf3,Bb4+,Bd2,Bxd2+,Nbxd2,b6,e4,Bb7,Bd3,d6,O-O,O-O,Qc2,h6,e5,Nfd7,Rfe1,Nc6,exd6,cxd6,a3,Nf6,Rad1,Rc8,Ne4,Na5,b3,Nxe4,Bxe4,Bxe4,Rxe4,d5,Rg4,dxc4,bxc4,Rxc4,Qd2,Qf6,Ne5,Rc7,Qd3,Rfc8,h3,Nc6,Qg3,Nxe5', 'dxe5,Qf5,Rxg7+', 'https://lichess.org/training/8Nz0L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8O4IF', 'Rapid', 'LansinkF', 1856, 'VovaSorokin', 1854, 'd4,Nf6,Bf4,g6,Nf3,Bg7,c4,d6,e3,Bg4,Bd3,Bxf3,Qxf3,c6,O-O,Nbd7,Nc3,e5,Bg3,O-O,Bc2,Re8,d5,cxd5,cxd5,Nc5,e4,Qb6,Bb3,a5,Na4,Nxa4,Bxa4,Rf8,Qc3,Nxe4,Qa3,Nxg3,hxg3,e4,Rab1,Bd4,b4,axb4,Rxb4,Qa7,Qb3,Rab8,Bd7,Bc5,Rxe4,b6,Bc6,f5,Ra4,Qf7,Re1,g5,g4,fxg4,Rxg4,Qxf2+,Kh2,Qxe1', 'Rxg5+,Kh8,Qb2+,Qe5+,Rxe5,dxe5,Qxe5+', 'https://lichess.org/training/8O4IF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8obS0', 'Classical', 'lokmangokce', 1642, 'cradula', 1737, 'e4,e5,d4,exd4,c3,d3,Bxd3,Nc6,Nf3,d6,O-O,Be7,Bf4,Nf6,Nbd2,O-O,Re1,Bg4,Qb3,Rb8,Rac1,Na5,Qa4,c6,b4,b5,Qc2,Nb7,c4,Nh5,Be3,a6,h3,Be6,c5,d5,Nb3,Nf6,Nbd4,Qc7,Ng5,dxe4,Bxe4,Bd7,Nxh7,Nxh7,Bxh7+,Kh8,Bf5,Bxf5,Qxf5,g6,Qg4,Qc8,Bg5', 'Qxg4,hxg4,Bxg5', 'https://lichess.org/training/8obS0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8OcRR', 'Rapid', 'PatriarchAscends', 1901, 'yellow_pit', 1624, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qf6,Be3,Bc5,c3,Qg6,Nb5,Bd6,Nxd6+,Qxd6,Qxd6,cxd6,Nd2,Nf6,Bd3,O-O,Nc4,d5,Nd6,dxe4,Nxe4,Nxe4,Bxe4,Re8,Bc2,b6,O-O,Bb7,Rad1,Ne5,Rfe1,d5,Bd4,Nc4,b3,Na3,Bd3,Re6,Rxe6,fxe6,Re1,Re8,Bf5,Kf7,Bxh7,g6,Re3,Nc2,Rh3,Nxd4,cxd4,Kg7,Rf3,Rh8,Re3,Bc8,Bxg6,Kxg6,Rg3+,Kf7,Rc3,Ke7,Rc7+,Kd6,Rxa7,Rh4,Ra4,Bd7,Rb4,b5,a4,bxa4,bxa4,e5', 'dxe5+,Kxe5,Rxh4', 'https://lichess.org/training/8OcRR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8oGPV', 'Blitz', 'AndrijaBudva', 1829, 'sve2ni', 1827, 'e4,c5,f4,Nc6,Nf3,d6,Bc4,e6,d4,cxd4,Nxd4,Be7,f5,e5,Nxc6,bxc6,Nc3,Bb7,O-O,Nf6,Bg5,d5,Bxf6,dxc4,Bxg7,Rg8,f6,Bc5+,Kh1,Bd4,Ne2,Qd7,c3,Be3,Qxd7+,Kxd7,Rad1+,Ke6,Rf3,Bg5,Rf5,Be3,b3,cxb3,axb3,c5,Ng3,Bf4,Ne2,Bxe4,Rh5,Bg6,Nxf4+,exf4,Re1+,Kd6,Rd1+,Kc6,Rhd5,Rac8,Rd7,a5', 'R1d6+,Kb5,Rb7#', 'https://lichess.org/training/8oGPV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8oh7h', 'Rapid', 'no_sql', 2202, 'Gold_Damka', 2110, 'd4,d5,Nf3,e6,c4,Nf6,cxd5,exd5,Nc3,c5,g3,Nc6,Bg2,Be6,O-O,Be7,dxc5,Bxc5,Bg5,O-O,Nb5,Qb6,Bxf6,gxf6,Nc3,Qxb2,Na4,Qb5,Rb1,Qa5,Nxc5,Qxc5,Rxb7,Rab8,Rxb8,Rxb8,Qd2,Qb4,Qh6,Qc3,Rc1,Qb2,Rxc6,Qxe2,Qd2', 'Rb1+,Rc1,Qxd2,Nxd2,Rxc1+', 'https://lichess.org/training/8oh7h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8OIoj', 'Rapid', 'Plat0ninho', 1786, 'Memoryx', 1772, 'c4,e5,e3,g6,Nc3,Bg7,g3,Ne7,Bg2,O-O,Nge2,f5,O-O,e4,d4,c6,b4,d5,c5,a6,a4,b6,b5,axb5,axb5,Rxa1,Qb3,Nd7,cxb6,Qxb6,Ba3,Rxf1+,Bxf1,Bf6,Nf4,cxb5,Ncxd5,Qb7,Nxe7+,Kg7,Ne6+,Kh6,Nxf8,Nxf8,Nxc8,Qxc8,Qxb5,Ne6,Bc5,Ng5,Kg2,f4,exf4,Qh3+,Kg1', 'Nf3+,Kh1,Qxh2#', 'https://lichess.org/training/8OIoj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8OmYC', 'Rapid', 'MRAPY', 1681, 'Raychess', 1796, 'e4,c5,Nf3,d6,Bc4,e6,d3,Be7,Bd2,a6,Nc3,Nc6,a3,Nf6,h3,b5,Ba2,Bb7,Be3,O-O,g4,Nd7,h4,Nde5,Nxe5,Nxe5,f4,Nd7,g5,g6,h5,Kh8,Qg4,f5,gxf6,Nxf6,Qxe6,Nxh5,Nd5,Bh4+,Kd2,Bxd5,Bxd5,Ra7,Rag1,Re7,Qg4,Bf6,Rxh5,gxh5,Qxh5,Rg7,Rh1,Bxb2,c3,Qf6,d4,cxd4', 'Bxd4,Qxd4+,cxd4', 'https://lichess.org/training/8OmYC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8onvW', 'Blitz', 'ilsoprano', 1696, 'nayefb', 1665, 'e4,c5,Bc4,Nc6,Nf3,e6,Nc3,Nf6,h3,d5,exd5,exd5,Bb5,a6,Bxc6+,bxc6,d4,Be7,O-O,O-O,Ne5,Bb7,Be3,Bd6,Ng4,cxd4,Bxd4,Ne4,Nxe4,dxe4,Qe2,c5,Bc3,Qg5,Qe3,Bf4,Qe2,f5,Qc4+,Kh8,Ne3,Bxe3,fxe3,f4,exf4,Rxf4,Rxf4,Qxf4,Qxc5,e3,Qe5', 'Qf2+,Kh2,Qxg2#', 'https://lichess.org/training/8onvW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8OO7Q', 'Rapid', 'yahya-qasem', 1744, 'kaavya', 1786, 'e4,c5,Nf3,a6,Bc4,d6,c3,Nf6,Be2,Nxe4,Qa4+,Bd7,Qxe4,Nc6,d4,e6,d5,Nb8,c4,Qc8,Ng5,e5,Nxh7,Bf5,Qh4,Rxh7,Qg3,Qc7,Nd2,Nd7,Nf3,Bg6,Ng5,Rh8,h3,Nf6,Ne6,Qe7,Bg5,fxe6,dxe6,Qxe6,O-O-O,Qf5,Bd3,e4,Rhe1,Kd8,Bxf6+,Qxf6,Bxe4,Bxe4,Rxe4,Kc7,Rf4,Qe6,Qa3,g5,Rf3,Qxc4+,Kb1,Qe4+,Ka1,Re8,Qa5+,b6,Qd2,Qg6,Qd5,Qg8', 'Rf7+,Qxf7,Qxf7+', 'https://lichess.org/training/8OO7Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8oOkH', 'Rapid', 'MKacper', 1682, 'Anduin-Lothar', 1698, 'c4,e5,Nc3,Nf6,e3,d5,d4,exd4,exd4,dxc4,Bxc4,Bb4,Qa4+,Nc6,Nf3,O-O,Qd1,Bg4,O-O,Nxd4', 'Qxd4,Qxd4,Nxd4', 'https://lichess.org/training/8oOkH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8OPAA', 'Rapid', 'celomelo123', 2022, 'Abdihas', 1934, 'e4,e5,Nf3,d6,Bc4,Nc6,Nc3,Be6,Bxe6,fxe6,O-O,Nf6,d3,d5,exd5,exd5,Re1,Bd6,Bg5,O-O,Nxd5,Be7,Nxf6+,Bxf6,Bxf6,Qxf6,c3,Rad8,Qb3+,Kh8,Rad1,Qg6,Nxe5,Nxe5,Rxe5,Qf6,Re2,Rde8,Rde1', 'Qxf2+,Rxf2,Rxe1+,Rf1,Rfxf1#', 'https://lichess.org/training/8OPAA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8oqSI', 'Classical', 'chilukashivudu', 1821, 'falanx', 2133, 'd4,d5,e4,dxe4,Nc3,f5,Bf4,c6,Bc4,Nf6,Be5,Nbd7,Nge2,Nxe5,dxe5,Ng4', 'Bf7+,Kxf7,Qxd8', 'https://lichess.org/training/8oqSI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8OrgK', 'Rapid', 'an2rey75', 1693, 'Karl55', 1680, 'd4,d5,c4,dxc4,e4,e6,Bxc4,Nf6,e5,Nd5,Nh3,Be7,Bxd5,Qxd5,Nc3', 'Qxg2,Rg1,Qxh3', 'https://lichess.org/training/8OrgK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8OTPq', 'Rapid', 'tvtkz1962', 1815, 'Gspj', 1883, 'd4,Nf6,c4,e6,a3,b6,Nc3,Bb7,Nf3,Be7,g3,d5,cxd5,exd5,Bg2,Nbd7,O-O,O-O,b4,a5,b5,c5,dxc5,bxc5,a4,Nb6,Nd2,Rb8,Bb2,d4,Nce4,Nbd5,Nxf6+,Nxf6,Qc2,Bxg2,Kxg2,Qd5+,f3,Rfd8,Qd3,Rbc8,Nc4,Rb8,Rac1,Nd7,Rfd1,Ne5,Nxe5,Qxe5,Rc4,Qe3,Bc1,Qxd3,Rxd3,f6,h4,Kf7,Ba3,Rbc8,f4,Ke6,Kf3,Kd5,Rc1,Ke6,g4,h5,gxh5,Rh8,Kg4,f5+,Kg3,Rxh5,Rh1,Rch8,e3,dxe3,Rxe3+,Kd7', 'Rd1+,Kc8,Rxe7', 'https://lichess.org/training/8OTPq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8oVF3', 'Rapid', 'Alrock', 1789, 'luckyshine123', 1769, 'e4,e5,Nf3,d6,d4,f6,dxe5,fxe5,Bg5,Be7,Qd2,Nf6,Bc4,Nbd7,Nc3,c6,O-O-O,a5,Nh4,g6,Be6,Nf8,Bxc8,Rxc8,Bxf6,Bxf6,Qxd6,Bxh4', 'Qxe5+,Qe7,Qxh8', 'https://lichess.org/training/8oVF3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8OVjv', 'Blitz', 'gustavo555', 1709, 'Rashib', 1693, 'e4,e5,Nc3,Nf6,Bc4,Be7,Nf3,O-O,O-O,c6,h3,d5,exd5,cxd5,Bb3,e4,Nd4,Qd6,Ncb5,Qe5,c3,Bd6,Nxd6,Qxd6,d3,Nc6,Nxc6,bxc6,dxe4,Nxe4,Be3,Re8,Qf3,Re6,Rad1,Rf6,Qe2,Rg6,Kh1,Be6,c4,Qd7,Qf3,Re8,cxd5,cxd5,Bc2,Rf6,Qh5,g6,Qh4,Rf5,Bxe4,Rh5,Qg3,Bxh3,gxh3', 'Rxh3+,Kg2,Rxg3+,Kxg3,Rxe4', 'https://lichess.org/training/8OVjv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8OWQO', 'Rapid', 'CharlyXYZ5', 2113, 'TheWanderingKnight72', 2223, 'e4,c5,d4,cxd4,c3,e5,cxd4,exd4,Qxd4,Nc6,Qd1,Nf6,Nc3,Bb4,Bg5,O-O,Nf3,Bxc3+,bxc3,h6,Bh4,g5,Bg3,Nxe4,Qd3,Nxg3,hxg3,Re8+,Be2,Qf6,Kf1,d5,Qxd5,Qxc3,Rd1,Be6,Qb5,Qf6,a4,g4,Ng1,Nd4,Qh5,Nxe2,Nxe2,Bc4', 'Qxg4+,Qg6,Qxc4', 'https://lichess.org/training/8OWQO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8owUp', 'Blitz', 'NM IsaacWiebeSupreme', 2267, 'Kadiya', 1793, 'e4,e5,f4,exf4,Nf3,Be7,Bc4,Bh4+,Kf1,c6,d4,d5,exd5,cxd5,Qe2+,Be7,Bb5+,Nc6,Bxf4,Nf6,Nc3,O-O,Re1,Bg4', 'Bxc6,bxc6,Qxe7', 'https://lichess.org/training/8owUp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8oyhd', 'Blitz', 'CM tunacem', 2207, 'bigdu', 2193, 'd4,c6,Nf3,d5,g3,Nf6,Bg2,Bf5,c4,e6,Nbd2,Nbd7,Nh4,Bg4,h3,Bh5,Qb3,Qb6,g4,Bg6,Nxg6,hxg6,Qc2,Rc8,c5,Qc7,g5,Nh5,e3,e5,Nb3,exd4,exd4,Be7,Be3,b6,cxb6,axb6,Rc1,Qd6,Bf3,Qe6,Bg4,Qd6,O-O,O-O,f4,Rfe8,Rf3,Rc7,Kg2,c5,Bxd7,Qxd7,dxc5,bxc5,Nxc5,Qf5,Qxf5,gxf5,b4,Ra8,Rc2,Ra3,Bd4,Ra8,Re2,Bd6,Be5,Rc6,Bxd6,Rxd6,a4,d4,a5,Rb8,Rb2,Rd5,Nd3,f6,h4,fxg5,hxg5,g6,a6,Rdb5,Ra2,Kg7,Rf1,Kf7,Rc1,Ke6,Rc6+,Kd5,Rxg6,Ke4,Nc5+,Ke3,a7,Ra8,Re6+,Kxf4,g6,Kg5,Ra4,Nf4+,Kf3,Nxe6,Nxe6+,Kxg6,Nxd4,Rb7,Nc6,Rc7,b5,Rb7,Ra6,Rxb5', 'Nd4+,Rb6,Rxb6+', 'https://lichess.org/training/8oyhd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8OZLW', 'Rapid', 'Thought_dancer', 1893, 'IngSebas', 1807, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,Be7,Bg5,b6,e3,Bb7,Qb3,Nbd7,cxd5,Nxd5,Bxe7,Qxe7,Be2,O-O,O-O,c5,Rac1,Rac8,Ne4,cxd4,Nxd4,N7f6,Ng3,h6,Bf3,Nh7,Rfd1,Ng5,Be2,Rfd8,Nf3,Nxf3+,Bxf3,Nf6,Rxc8,Rxc8,Bxb7,Qxb7,Qb5,a6,Qa4,a5,h3,Qc6,Rd8+,Ne8', 'Qxc6,Rxc6,Rxe8+', 'https://lichess.org/training/8OZLW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8oZVb', 'Rapid', 'geer3', 2038, 'sm3an', 2027, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,Bb4+,Nd2,Nf6,Bxf7+,Kxf7,Qb3+,Kg6,Qxb4,Re8,Ngf3,h6,O-O,Nc6,Qc3,d6,e5,Nxe5,Nxe5+,dxe5,Qg3+,Kh7,Nf3,e4,Nh4,Bg4,h3,Bh5,Nf5,Qd7,Bxf6,gxf6,Qf4,Kg8,Qxh6,Qxf5,g4,Bxg4,hxg4,Qxg4+,Kh1,Re5', 'Rg1,Rg5,Rxg4', 'https://lichess.org/training/8oZVb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8P3cu', 'Rapid', 'daksh007', 2013, 'begimay834', 2064, 'd4,d5,c4,e6,Nf3,Nf6,g3,Be7,Bg2,O-O,O-O,b6,Nc3,Bb7,Ne5,Nbd7,Bg5,c5,Nxd7,Qxd7,dxc5,bxc5,cxd5,Nxd5,Bxe7,Qxe7,Nxd5,exd5,Qb3,Rfd8,e3,Rac8,Rfd1,Rb8,Qc3,d4,exd4,Bxg2,Kxg2,Qe4+,Qf3,Qxf3+,Kxf3,Rxd4,Rxd4,cxd4,b3,f5,Rd1,Rd8,Kf4,g6,Ke5,Re8+,Kxd4', 'Rd8+,Kc4,Rxd1', 'https://lichess.org/training/8P3cu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8p3xB', 'Blitz', 'saifallam', 2042, 'fonzy050', 1916, 'd4,Nf6,c4,e5,e3,exd4,exd4,d5,Nc3,Bb4,Bg5,h6,Bxf6,Qxf6,Nf3,O-O,Be2,Re8,O-O,Bg4,Ne5,Bxe2,Qxe2,Bxc3,bxc3,Nc6,f4,dxc4,Qxc4,Rad8,Rae1,Ne7,Qxc7,Nd5,Qxb7,Nxc3,Rc1,Ne2+,Kh1,Nxc1,Rxc1,Rxd4,g3,Red8,Rc7,Rd1+,Kg2,R8d2+,Kh3,Qf5+,g4,Qxf4,Rxf7,Qe3+,Nf3,Rxh2+,Kxh2', 'Qf2+,Kh3,Rh1+,Nh2,Qxh2#', 'https://lichess.org/training/8p3xB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8p5Vi', 'Rapid', 'wyn267', 1746, 'romario0333', 1803, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qf6,Nf5,Bc5,Bd3,Nge7,Qg4,g6,Bg5,gxf5', 'Bxf6,fxg4,Bxh8', 'https://lichess.org/training/8p5Vi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8P6CH', 'Rapid', 'aminebriki', 1850, 'Kacpri', 1926, 'e4,e5,d4,exd4,Qxd4,Nc6,Qd1,d6,Nc3,Nf6,Bg5,h6,Bf4,g5,Bd2,Bg7,Bd3,d5,Qf3,Bg4,Qg3,dxe4,Nxe4,Qe7,f3,Bh5,O-O-O,O-O-O,Qf2,Qe5,Bc3,Qe6,Ne2,Nxe4,Bxe4,Bxc3,Nxc3,f5,Bxc6,Qxc6,Qxa7,b6,Qa6+,Kb8,Rde1,Bf7,Re2', 'Bc4,Qa3,Bxe2', 'https://lichess.org/training/8P6CH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8P6Ll', 'Rapid', 'Vedimon', 1783, 'FizarA1', 1717, 'd4,e6,c4,c5,e3,cxd4,exd4,Bb4+,Nc3,Bxc3+,bxc3,Nf6,a4,a6,Ba3,d5,cxd5,Qxd5,Nf3,Bd7,Be2,Nc6,O-O,Qa5,c4,Qc3,d5,Ne5,Nxe5,Qxe5,Re1,O-O-O,d6,Qa5,Bf3,Qxa4,Qb1,Bc6,Bxc6,Qxc6,c5,Kb8,Qb2,Rd7,Bb4,Nd5,Ba3,Nf4,f3,f6,Qd2,e5,Rab1,Rc8,Rb6,Qa4,Re3,Ne6,Qc3,Qd1+,Re1,Qd4+,Qxd4,Nxd4,Reb1,Ne6', 'c6,Rxc6,Rxc6', 'https://lichess.org/training/8P6Ll');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8PctS', 'Classical', 'The_Courteous', 2087, 'Achil', 2047, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Be7,e5,Nfd7,Bxe7,Qxe7,Qg4,O-O,O-O-O,a6,h4,f5,Qg3,c5,f4,cxd4,Rxd4,Nc6,Rd1,b5,Nf3,Nc5,Nd4,Bb7,a3,Rfc8,Nxf5,exf5,Nxd5,Qf7,Nb6,Ne4,Qe1,Qa2,c3,b4', 'Bc4+,Qxc4,Nxc4', 'https://lichess.org/training/8PctS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Pcz7', 'Blitz', 'FM b00dala', 2364, 'kostya99', 2032, 'e4,g6,d4,Bg7,Nf3,d6,Bc4,Nf6,Nc3,Bg4,h3,Bxf3,Qxf3,O-O,O-O,Nc6,Ne2,e5,d5,Ne7,Bg5,Nd7,g4,a6,Ng3,b5,Bb3,a5,a3,h6,Be3,f5,gxf5,gxf5,Nxf5,Nxf5,exf5,Qf6,Kh2,Qxf5,Qxf5,Rxf5,Rg1,Kh8,Rg2,e4,Rg4,Re8,Rag1,Bxb2,a4,b4,Bxh6,Rh5,Bf4,Be5,Bc4,Bxf4+,Rxf4,Ne5,Be2,Rh6,Rxe4,Re7,f4', 'Ng4+,Bxg4,Rxe4', 'https://lichess.org/training/8Pcz7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8peAi', 'Rapid', 'iyad_shaikh_hamza', 1653, 'Bite_r', 1675, 'e4,c6,Nf3,d5,e5,Bg4,d4,a6,Be2,c5,c3,e6,O-O,Nc6,Be3,Rc8,Nbd2,Nge7,Bg5,c4,Qa4,Qc7,b3,h6,Bh4,g5,Bg3,Kd8,bxc4,Nb8,cxd5,Nxd5,c4', 'Nc3,Qb3,Nxe2+', 'https://lichess.org/training/8peAi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8PEJ6', 'Rapid', 'AlexNvkz', 2216, 'Christian62', 2338, 'e4,d6,d4,Nf6,Nc3,g6,f4,Bg7,Bd3,O-O,Nf3,Na6,a3,c5,O-O,cxd4,Nxd4,Qb6,Bc4,Nxe4,Be3,Nxc3,bxc3,Qc7,Qd3,Nc5,Qe2,a6,a4,Ne4,Qd3,Nc5,Qe2,e5,fxe5,dxe5,Nb3,Ne6,a5,Nf4,Rxf4,exf4,Bb6,Qc6,Nd4,Qf6,Re1,Bd7,Qf3,Rfe8,Rf1,Bc6,Nxc6,bxc6,Bd4,Qd6,Bxg7,Kxg7,Qxf4,Qxf4,Rxf4,f5,Rd4,Re7,Rd6,Rc7,Kf2,Kf8,Rf6+,Kg7,Rd6,Raa7,Ke3,g5,Kd4,Rd7,Kc5,Rxd6,Kxd6,Kf6,Kxc6,Ke5,Kb6,Ra8', 'Bxa6,Rxa6+,Kxa6', 'https://lichess.org/training/8PEJ6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8PEnO', 'Rapid', 'ishantsing', 1735, 'TheRealKasparov', 1759, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Be2,Bd7,O-O,Nh6,Nbd2,cxd4,cxd4,Nxd4,Nxd4,Qxd4,Nf3,Qxd1,Rxd1,Nf5,Nd4,Nxd4,Rxd4,Bc5,Rg4,O-O,Bh6,g6,Bxf8,Rxf8,Bd3,f6,Rf4,fxe5,Rxf8+,Kxf8,Rc1,b6,a3,a5,g3,Kg7,b4,axb4,axb4,Bd6,f3,Kf6,h3,h6,b5,Bc5+,Kg2,g5,Ra1,Be8,Ra8,Bf7,Rh8,h5,g4,hxg4,hxg4,Kg7,Rb8,Kf6,Kf1,Ke7,Rb7+,Kf8,Ke2,Kg7,Kd1,Kf6,Kd2,Kg7,Be2,Kf6,Bd1,Bg6,Bc2,e4,fxe4,dxe4,Ra7', 'e3+,Kc3,e2', 'https://lichess.org/training/8PEnO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8pFoB', 'Rapid', 'Louis80', 1645, 'bub2017', 1704, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Bc5,Nf5,Qf6,O-O,d6,Ng3,Nge7,Be3,Qxb2,Qf3,O-O,Nd2,Ne5,Qe2,Bg4,f3,Bd7,Bxc5,dxc5,c3,Qxc3,Rfc1,Qa5,Bb3,Bb5,Nc4,Qa6,f4,N5c6,Qc2,Nd4,Qd2,Rad8,Qb2,Ng6,f5,Nf4,Ne5,Nde2+,Nxe2,Nxe2+,Kh1,Nxc1,Rxc1,Rfe8,Bxf7+,Kh7,Bxe8,Rxe8,Rxc5,c6,h3,b6,Rc2,Qa5,Rf2,Qe1+,Kh2,Qxe4,Ng4,Be2,f6,Bxg4,hxg4,Qe5+', 'Qxe5,Rxe5,f7', 'https://lichess.org/training/8pFoB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8PgWA', 'Classical', 'Comrade_Yoza', 1806, 'Thor1512', 1842, 'd4,Nf6,Nc3,e6,Bf4,d5,e3,c5,Nb5,Na6,a4,cxd4,exd4,Bd7,Nf3,Be7,Bd3,O-O,Ne5,Bxb5,Bxb5,Nc7,Bd3,h6,O-O,a6,Qe2,Nce8,Rfd1,Nd6,c4,dxc4,Nxc4,Nxc4,Bxc4,Bd6,Bg3,Bxg3,hxg3,Nd5,Ba2,Rc8,Bb1,Nf6,f4,Qd5,Bd3,h5,Kh2,Ng4+,Kh1,Kh8,Be4', 'Qxe4,Qxe4,Nf2+,Kh2,Nxe4', 'https://lichess.org/training/8PgWA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8pGZJ', 'Rapid', 'soilemezis55', 1790, 'VITALIS-EMMANOUIL', 1716, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Nf6,Nc3,Be7,h3,O-O,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qd1,a6,Bd3,Be6,b3,b5,Bb2,c4,bxc4,bxc4,Be2,Qb6,Rb1,Qc5,Bf3,Rab8,Nd5,Nxd5,exd5,Bf5,Bd4', 'Rxb1,Bxc5,Rxd1', 'https://lichess.org/training/8pGZJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8PLjD', 'Blitz', 'FM Mikevito', 2372, 'Matrockin881', 2032, 'd4,g6,c4,Nf6,Nc3,Bg7,e4,O-O,f3,e6,Be3,d5,e5,Nfd7,cxd5,exd5,Bd3,c6,f4,c5,Nf3,cxd4,Nxd4,Nc6,O-O,Nc5,Qe2,Nxd3,Qxd3,Nxd4,Bxd4,Bf5,Qe2,Be4,Nxe4,dxe4,Qxe4,b6,Rfd1,Qe7,Bc3,Rfd8,Bb4,Qe6,Bd6,Rac8,Rac1', 'Rxc1,Rxc1,Rxd6', 'https://lichess.org/training/8PLjD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8pLLn', 'Classical', 'DK_Chess', 1879, 'Fish_custard', 1909, 'd4,Nf6,c4,c5,d5,e6,dxe6,fxe6,Bg5,Be7,e3,O-O,Bd3,d5,Bxf6,Rxf6,cxd5,exd5,Nc3,d4,Qb3+,Kh8,exd4,cxd4,Ne4,Qa5+,Ke2,Re6,Rc1,Nc6,Nf3,Ne5', 'Rxc8+,Rxc8,Qxe6', 'https://lichess.org/training/8pLLn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8pLLw', 'Rapid', 'LM Rochade_Augsburg', 2318, 'CosyCat', 1742, 'Nf3,d5,g3,Nf6,Bg2,g6,O-O,Bg7,c4,e6,d4,O-O,Nc3,c6,Ne5,Nbd7,Bf4,dxc4,Nxc4,Nd5,Bd6,Re8,e4,Nxc3,bxc3,Nb6,Nxb6,Qxb6,e5,Bf8,Bxf8,Rxf8,Qb3,Qxb3,axb3,a5,Ra3,Bd7,Rfa1,b6,b4,Ra7,bxa5,Rfa8,a6,Kf8,f4,Ke8,Kf2,Kd8,Ke3,Kc7,g4,Bc8,Bf1,b5,g5,Rxa6,Rxa6,Rxa6,Rxa6,Bxa6,h4,Kb6,Be2,Bc8,h5,Bd7,h6,c5,Bd1,b4,dxc5+,Kxc5,cxb4+,Kxb4,Kd4,Kb5,Be2+,Kc6,Kc4,Kc7,Kc5,Bc8,Bb5,Bd7,Bd3,Bc8,Bf1,Bd7,Ba6,Be8,Bc4,Bd7,Ba2,Bc8,Bb3,Bd7,Bc4,Be8,Bf1,Bd7,Bg2,Bc8,Bf3,Bd7,Be2,Be8,Bd1,Bd7,Bc2,Bc8,Bd3,Bd7,Be2,Be8,f5,exf5,Bc4,Kd7,Kd4,Kc6,e6,fxe6,Bxe6,Kd6,Bg8,f4,Ke4,f3,Kxf3,Ke5,Kg4,Bd7+,Kh4,Kf5,Bb3,Be6', 'Bc2+,Kf4,Bxg6', 'https://lichess.org/training/8pLLw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8pqhA', 'Blitz', 'johnzabraham', 1863, 'ebru_2001', 1863, 'c4,e5,Nc3,Nc6,d3,g6,g3,Bg7,Bg2,Nge7,e4,d6,Nge2,Be6,Be3,Qd7,O-O,Bh3,f4,h5,fxe5,h4,exd6,hxg3,dxe7,gxh2+,Kh1,Bxg2+,Kxg2,Qg4+,Kh1,Qh3,Qd2,Ne5,Nf4,Qg4,Qf2,f5,d4,Nxc4,Nfd5,Rc8,exf5,gxf5,b3,Nxe3,Qxe3,Bxd4,Qe6', 'Qg1+,Rxg1,hxg1=Q#', 'https://lichess.org/training/8pqhA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8pqKF', 'Rapid', 'mmil', 1822, 'Alant31', 1830, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Bg4,Be2,e6,a3,Bxf3,Bxf3,Nc6,Be3,Nf6,O-O,Bd6,Nc3,Qb6,b4,O-O,Na4,Qb5,Nc5,b6', 'Be2,Qxe2,Qxe2', 'https://lichess.org/training/8pqKF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8pvea', 'Rapid', 'mcdoug', 1725, 'manishsgupta', 1751, 'e4,c5,d4,Nc6,d5,Ne5,Bf4,d6,Nf3,Nxf3+,Qxf3,Nf6,Nc3,Bg4,Qd3,e5,dxe6,fxe6,Be2,Be7,h3,Bh5,Bxh5+,Nxh5,Be3,O-O,O-O-O,Bg5,Kb1,Bxe3,Qxe3,a6,e5,d5,Qxc5,Nf4,g3,Ng6,Rhe1,Rc8,Qe3,Ne7,f4,Nf5,Qg1,Qc7,Rd3,b5,b4,Qc4,Rc1', 'Qxb4+,Ka1,Rxc3', 'https://lichess.org/training/8pvea');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8PWjS', 'Blitz', 'CM Voorzitter-HMC', 2465, 'SSS_Win', 2449, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Bc4,Nxc3,bxc3,e6,Nf3,Nc6,d4,Bd6,O-O,O-O,Bg5,Be7,Bxe7,Qxe7,Re1,a6,Qe2,Qf6,Rad1,Bd7,Bd3,g6,Qe3,Rfe8,c4,Rad8,c3,Bc8,Qh6,Qg7,Qh4,f6,d5,exd5,cxd5,Ne7,c4,Bf5,Bf1,g5,Qd4,Bg6,Re6,Nf5,Qxf6,Qxf6,Rxf6,Kg7,Re6,Rxe6,Nxg5,Ree8,g4,Nh6,h3,Nf7,Nf3,Ne5,Nd4,c5,Nb3,b6,f4,Nf3+,Kf2,Nd4,Nd2,Bc2,Rc1,Be4,f5,Kf6,Kg3,b5,cxb5,axb5,Rxc5,Rxd5', 'Nxe4+,Rxe4,Rxd5', 'https://lichess.org/training/8PWjS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8pXdf', 'Rapid', 'apokal', 1718, 'patricles', 1741, 'd4,d5,c4,Nc6,cxd5,Qxd5,Nf3,e5,e3,Bg4,Be2,Bxf3,Bxf3,e4,Bg4,f5,Bh5+,g6,Nc3,Bb4,Be2,Bxc3+,bxc3,Nf6,Qb3,O-O-O,Bc4,Na5,Qb4,Nxc4,Rb1,b6,O-O,a5,Qa4,b5,Rxb5,Nb6,Qxa5,Qc4,Rc5,Qa4', 'Qxb6', 'https://lichess.org/training/8pXdf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8pXtJ', 'Blitz', 'TossIMBA', 2423, 'IM Seppo', 2554, 'Nf3,g6,c4,Bg7,Nc3,e5,d3,Nc6,h4,h6,h5,g5,g3,d6,Bg2,f5,Nd2,Nf6,Nf1,O-O,Ne3,Nd4,Ned5,c6,Nxf6+,Qxf6,f4,exf4,gxf4,g4,e3,Ne6,Qe2,Bd7,Bd2,Rab8,a4,Rfe8,Kd1,a6,Qf2,Nc5,Kc2,Be6,b4,Nd7,b5,Nc5,Rhb1,cxb5,axb5,Rec8,Nd5,Qf7,Bc3,Bxc3,Kxc3,Nd7,Qa2', 'Bxd5,Bxd5,Qxd5', 'https://lichess.org/training/8pXtJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8PZVa', 'Rapid', 'Pr0m3th3u2', 1874, 'Mattblackmatt2', 1818, 'd4,Nf6,Bf4,d5,e3,c5,Nf3,Nc6,c3,Qb6,Qb3,c4,Qxb6,axb6,Nbd2,b5,a3,b4,a4,b5,Ne5,Nxe5,dxe5,bxc3,bxc3,bxa4,exf6,exf6,e4,Be6,exd5,Bxd5,f3,a3,Nxc4,Bxc4,Bxc4,Bc5,Bb5+,Ke7,O-O-O,g5,Rhe1+,Kf8,Re8+,Rxe8,Bxe8,Kxe8,Bd6,Bxd6,Rxd6,Ke7,Ra6,Rc8,Kc2,Rc5,Rxa3,Re5,Kd3,Re1,Ra7+,Kf8,Ra2,Ke7,Rc2,Ke6,c4,Kd6,c5+,Kc6,h3,Re5,Kd4,Rd5+,Ke4,Rxc5', 'Rxc5+,Kxc5,Kf5,Kd4,Kxf6,Ke3,Kxg5', 'https://lichess.org/training/8PZVa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8q0lP', 'Blitz', 'Cfontes', 2171, 'kurrrt48', 1924, 'c4,e5,Nc3,Nf6,Nf3,Nc6,g3,d5,cxd5,Nxd5,Bg2,Be6,O-O,Be7,d3,Qd7,Re1,O-O-O,Ng5,Bxg5,Bxg5,f6,Bd2,h5,Ne4,Qf7,Rc1,h4,Rxc6,bxc6,Qa4,Kd7,Nc5+,Ke7,Qxc6,Rd6,Qa4,hxg3,fxg3,Qh5,Nxe6,Kxe6,Bxd5+,Rxd5,Qc6+,Rd6,Qg2,f5,Rc1,e4,Bb4,Rb6,Ba3,exd3,exd3,Rd8,Re1+,Kf7,Re7+,Kg8,Qd2,Qf3,Re3,Qd5,b3,Rc6,Bb2,Re6,Qe2,Rxe3,Qxe3,Qxd3,Qe6+,Kh8', 'Qh6+,Kg8,Qxg7#', 'https://lichess.org/training/8q0lP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Q1f1', 'Blitz', 'DavidGota86', 1818, 'pasteleropicante', 1804, 'd4,g6,c4,Bg7,Nc3,d6,Nf3,Nf6,Bg5,O-O,e4,Bg4,Be2,Bxf3,Bxf3,Nbd7,Qd2,c6,d5,cxd5,cxd5,Nc5,O-O,b5,a3,a5,Rac1,b4,axb4,axb4,Ne2,Nfxe4,Bxe4,Nxe4,Qe3,Nxg5,Qxg5,h5,Rb1,Kh7,Nf4,Bf6,Qg3,Be5,Qe3,Bxf4,Qxf4,Qc7,Qxb4,Rfb8,Qe4,Ra2,h3,Rbxb2,Rxb2,Rxb2,Qd4,Rb7,Qe3,Qd7,Rc1,e6,dxe6,Qxe6,Qf3,Re7,Qc6,Qe5,Qc3,Qxc3,Rxc3,d5,Rd3,Rd7,Kh2,f5,Kg3,Kg7,Kf4,Kf6,h4,d4,f3,Rd5,g3,Rd8,g4,hxg4,fxg4,fxg4,Kxg4,Ke5,Kf3,Rf8+,Kg4,Rf4+,Kg3,Ke4', 'Rxd4+,Kxd4,Kxf4,Kd5,Kg5', 'https://lichess.org/training/8Q1f1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8q1g9', 'Rapid', 'Rian1993', 2246, 'WolframiumKA', 2361, 'Nf3,Nf6,c4,c5,g3,Nc6,Bg2,g6,O-O,Bg7,Nc3,O-O,b3,d5,cxd5,Nxd5,Bb2,Nxc3,Bxc3,e5,d3,Re8,Qc2,Rb8,Ng5', 'Qxg5,Bxc6,bxc6', 'https://lichess.org/training/8q1g9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8q6wt', 'Rapid', 'vadimstavila6', 1668, 'tsefei77777', 1656, 'e4,e5,Nc3,d6,d3,h5,f4,Bg4,Be2,Nf6,Bxg4,Nxg4,f5,f6,Bd2,g5,Qe2,Nc6,O-O-O,Nd4,Qe1,Qd7,Be3,O-O-O,Bxd4,exd4,Nd5,Qa4,Kb1,Rh6,h3,Ne5,Nf3,Nc6,c3,dxc3,Nxc3,Qa6,d4,Nb4,Qd2,Be7,a3,Nc6,d5,Na5,Qc2,Rdh8,Nd4,g4,h4,Nc4,Ndb5,Ne3,Qb3,Nxd1,Rxd1,Qb6,Na4,Qa6,Rc1,c5,dxc6,bxc6,Qe6+,Kd8,Nxd6,Qd3+,Ka1,Qxd6,Qc4,Kd7,Qa6,Ra8', 'Qb7+,Ke8,Qxa8+', 'https://lichess.org/training/8q6wt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8q780', 'Rapid', 'tuyatas', 2064, 'Pulverizer', 2119, 'e4,e5,Nf3,Nc6,d4,d6,dxe5,dxe5,Qxd8+,Kxd8,Nc3,Nd4,Be3,Nxc2+,Kd2,Nxa1,Bc4,f6,Rxa1,c6,Rd1,Kc7,b4,Bg4,b5,Rd8+,Ke2,Rxd1,Kxd1,Bxf3+,gxf3,Ne7,Bxa7,Ng6,a4,Bb4,Kc2,Bxc3,Kxc3,Ra8,b6+,Kd6,a5,Nf8', 'a6,Nd7,axb7', 'https://lichess.org/training/8q780');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Q7lu', 'Blitz', 'kleobe', 1913, 'Trivedi30', 1901, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Bc4,O-O,h3,d6,O-O,Bd7,f4,Rc8,Bb3,a6,Nf3,Qa5,a3,Nh5,Qd3,b5,Ng5,h6,Nf3,Nd8,Nh4,Ne6,f5,Nc5,Bxc5,dxc5,fxg6,c4,gxf7+,Kh8,Qf3,Nf6,Ng6+,Kh7,Nxf8+,Rxf8,Ba2,Qb6+,Kh1,Rxf7,e5,Bc6,Qf4,Nh5,Qxf7,Ng3+,Kh2,Nxf1+,Rxf1,Qd4,Qf5+,Kh8,Rd1,Bxe5+,Kh1,Qe3,Rd8+,Kg7,Qf8+,Kg6,Qg8+,Bg7,Rd1', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/8Q7lu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Q7mq', 'Classical', 'cj_juan', 1742, 'Bormatyxa', 1994, 'Nf3,e6,d4,d5,Bf4,c5,c3,Nc6,e3,Qb6,Qb3,Nf6,Nbd2,Bd7,Be2,c4,Qc2,h6,h3,Be7,O-O,O-O,Rab1,a5,e4,a4,a3,Ne8,Bh2,Bd6,e5,Be7,Rbe1,f6,exf6,Bxf6,Bd1,Ne7,Ne5,Bxe5,Bxe5,Nf5,Nf3,Nf6,Qb1,Ne4,Bc2,Nfd6,Bh2,Qd8,Ne5,Nd2,Bh7+,Kh8,Qc2,Nxf1', 'Ng6+,Kxh7,Nxf8+', 'https://lichess.org/training/8Q7mq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8qAjF', 'Classical', 'NextChance', 1677, 'SinasiKerim', 1657, 'd4,d6,Bf4,Nc6,d5,Nb4,c3,g5,Bxg5,Na6,e4,Nc5,Qd4,f6,Be3,Bh6,Bb5+,c6,dxc6,Bxe3,Qxe3,Kf8,Ne2,e5,cxb7,Bxb7,f3,Qb6,Na3,Rd8,O-O,Ba6,Bxa6,Qxa6,Ng3,Nd3,Qd2,d5,exd5,Rxd5,c4,Rd7,Ne4,h6,Nxf6,Qb6+,Kh1,Qxf6,Rad1,Nc5,Qb4,Rc7,Rd5,Qe7,Rfd1,Nf6,Rd8+,Kg7,Rxh8,Kxh8,Qb8+,Ng8,Rd8,Qg5', 'Rxg8+,Qxg8,Qxc7', 'https://lichess.org/training/8qAjF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8QaNb', 'Rapid', 'vtc82', 2129, 'LegendarnyAfrojax', 2043, 'd4,d5,Nf3,Nc6,Bf4,Bg4,Nbd2,e6,h3,Bh5,e3,Bd6,Bxd6,cxd6,Be2,e5,dxe5,dxe5,c3,Nf6,O-O,O-O,Re1,Rc8,Rc1,Qe7,a3,Rfd8,Qa4,Bg6,Nh4,Be4,Nxe4,Nxe4,Nf3,Rd6,Qb5,a6,Qb3,Nc5,Qc2,e4,Nd4,Nxd4', 'cxd4,Rdc6,dxc5', 'https://lichess.org/training/8QaNb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8QFmG', 'Blitz', 'LegenDarius', 1782, 'raksane', 1777, 'd4,Nf6,Bf4,e6,Nf3,b6,e3,Bb7,Bd3,Be7,h3,O-O,Nbd2,d5,c4,Nbd7,O-O,c5,dxc5,bxc5,Rc1,Re8,Qb3,Qb6,Qc2,Rac8,Ne5,Nf8,Bh2,Ng6,Nxg6,hxg6,Nf3,Bf8,Ne5,Red8,Rfd1,Nd7,b3,Nxe5,Bxe5,Qc6,f3,Bd6,Qb2,Bxe5,Qxe5,Qd6,Qg5,dxc4,Bxc4,Qxd1+,Rxd1,Rxd1+,Kf2,Rcd8,Qxc5,R8d2+,Kg3,Rg1,Qxa7,Rgxg2+,Kf4,Bc6,Qc7,Bd7,a4,Kh7,a5,f6,a6,g5+,Ke4,Rge2,Bxe2', 'f5+,Ke5,Rd5#', 'https://lichess.org/training/8QFmG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8QFtd', 'Classical', 'Blank_Memory', 1743, 'ChingyBaboo', 1704, 'd4,Nc6,d5,Ne5,Nc3,c5,Bf4,Nc4,b3,Qa5,bxc4,Qxc3+,Bd2,Qxc4,e3,Qxd5,Nf3,Nf6,c4,Qc6,Be2,e6,O-O,d6,a4,Be7,Bd3,e5,Bc2,e4,Ng5,h6,Nh3,Be6,Bb3,Bg4,Qc1,Bxh3,gxh3,Qd7,Kg2,h5,Rg1,O-O-O,Kh1,Qxh3,Rg3,Qf5,Qg1,Ng4,Rf1,h4', 'Rxg4,Qf3+,Qg2', 'https://lichess.org/training/8QFtd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8QgcI', 'Rapid', 'welcern', 1906, 'novibeograd', 1945, 'e4,e5,Nf3,f5,d3,Nf6,Nxe5,d6,Nf3,fxe4,dxe4,Nxe4,Be2,Be7,O-O,O-O', 'Qd5+,Kh8,Qxe4', 'https://lichess.org/training/8QgcI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8QHUU', 'Rapid', 'justheretolearn', 1829, 'xxzzxx', 2117, 'e3,d5,d4,Nf6,c4,c6,cxd5,cxd5,Nf3,Bg4,Be2,Nc6,Ne5,Bxe2,Qxe2,e6,Nxc6,bxc6,O-O,c5,dxc5,Qa5,c6,Rc8,Bd2,Qb6,Na3,Bxa3,bxa3,Rxc6,Rab1,Qc7,Qb5,O-O,Ba5,Qd7,Rbc1', 'Rxc1,Qxd7,Rxf1+,Kxf1,Nxd7', 'https://lichess.org/training/8QHUU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8qiiF', 'Blitz', 'kolyankir', 1910, 'Rasmus_C', 1646, 'e4,e5,Nc3,Nf6,Nf3,Nc6,a3,Bc5,Nxe5,Nxe5,d4,Bxd4,Qxd4,Nc6,Qa4,O-O,Bb5,Re8,O-O,Ne5,Bf4,Ng6,Bg5,c6,Be2,b5,Qd4,Qb6,Bxf6,gxf6,Qxf6,Re6,Qg5,Ba6,Rfd1,Rd8,Bg4,Rde8,Bxe6,Rxe6,Rxd7,Kg7,Rad1,Rf6,Qg3,Bc8,Rd8,Be6,Ra8,h5,Rdd8,h4,Rg8+,Kh7,Qxh4+,Nxh4', 'Rh8+,Kg6,Rag8#', 'https://lichess.org/training/8qiiF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8qiKW', 'Rapid', 'Ma7amedawad', 1740, 'Willpower_focus', 1697, 'e4,e5,Bc4,Nf6,Nf3,Nxe4,Qe2,d5,Nxe5,c6,d3,Nf6', 'Nxc6+,Be7,Nxd8', 'https://lichess.org/training/8qiKW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8qjl4', 'Classical', 'Ohiloosemyqueen', 1788, 'gselzbaer', 1847, 'f4,Nf6,Nf3,c6,b3,Qc7,e3,d5,Bb2,Bg4,Be2,Nbd7,O-O,e6,Ne5,Bxe2,Qxe2,Be7,d3,h5,Nd2,Rh6,Ndf3,Bd6,e4,Bxe5,Nxe5,Nxe5,Bxe5,Qb6+,Qf2,Qxf2+,Rxf2,Ng4,Rf3,Nxe5,fxe5,Ke7,exd5,cxd5,Raf1,Rf8,g3,h4,Kg2,hxg3,Rxg3,g6,Rh3,Rh5,Rxh5,gxh5,Kh3,f5,exf6+,Rxf6,Rg1,Rf7,Rg2,b6,Kh4,Rh7,Rg5,Kf6,Rxh5,Rg7,Rh8,Rg2,h3,Rxc2,a4,Rb2,Rf8+,Ke5,Kg5,Rxb3,Rf3,b5', 'd4+,Kxd4,Rxb3', 'https://lichess.org/training/8qjl4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8QjW5', 'Rapid', 'UmezGeePee', 1718, 'duparte', 1717, 'd3,d5,e4,dxe4,dxe4,Qxd1+,Kxd1,Bg4+,f3,Bh5,Nc3,Nf6,Bf4,c6,Be2,e6,Kd2,Bb4,Rd1,O-O,Be5,Rd8+,Kc1,Rxd1+,Nxd1,Be7,Ne3,Nbd7,Bc3,a5,g4,Bg6,Bd3,h6,Ne2,Nc5,Bd4,Nxd3+,cxd3,c5,Bc3,Rd8,Rd1,b6,Nf4,Bh7,Kb1,Nd7,Nc4,Bg5,Nh3,Be7,Ka1,Rb8,a3,Bd8,d4,b5,Nxa5,b4,axb4', 'cxb4,Nc6,Ra8+', 'https://lichess.org/training/8QjW5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8QlnZ', 'Rapid', 'blindchess32', 2185, 'ujcn', 1965, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Be7,e5,Nfd7,Bxe7,Qxe7,f4,O-O,Nf3,c5,Qd2,Nc6,O-O-O,c4,g4,Rb8,f5,f6,fxe6,Qxe6,Bg2,Nb6,Rhe1,Qxg4,Kb1,Be6,exf6,Rxf6,Ne5,Qh5,a4,Rbf8,Rf1,Rxf1,Rxf1,Rxf1+,Bxf1,Nxe5,dxe5,Qxe5,a5,Nd7,Qf2,Nf6,Nb5,a6,Nd4,Ne4,Qe3,Bd7,Ka2,Qc7,Kb1,c3,bxc3,Qxc3,Bd3,Nd2+,Kc1,Nc4', 'Bxh7+,Kxh7,Qxc3', 'https://lichess.org/training/8QlnZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8QNH9', 'Blitz', 'HomeAp', 2507, 'FM MichaelBaron', 2604, 'd4,Nf6,Bg5,Ne4,Bf4,d5,f3,Nf6,Nc3,e6,e3,Be7,Bd3,O-O,Nge2,c5,b3,Nc6,Qd2,a6,Nd1,b5,c3,Bb7,Nf2,b4,O-O,bxc3,Qxc3,cxd4,Nxd4,Nxd4,exd4,Rc8,Qd2,Qb6,Rfc1,h6,Be5,a5,Rxc8,Rxc8,Rc1,Rxc1+,Qxc1,Nd7,Qc7,Qxc7,Bxc7,Bb4,Nd1,Bc6,Kf2,a4,Ke3,Kf8,Nb2,axb3,axb3,Ke7,Na4,f6,Nb6,Nxb6,Bxb6,Kd6,f4,Ba3,g3,Be8,Kd2,Bb4+,Ke3,g5,Bd8,gxf4+,gxf4,f5,Bf6,Ba3,Bg7,h5', 'Bf8+,Kc7,Bxa3', 'https://lichess.org/training/8QNH9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8QnMC', 'Rapid', 'zoranlaza', 1778, 'Sta-s', 1682, 'd4,c6,e3,d5,f4,Bf5,Nf3,Be4,Bd3,Nf6,Nbd2,Bxd3,cxd3,e6,O-O,Bd6,a3,a6,b4,a5,Qb3,axb4,a4,b5,a5,Rxa5,Rxa5,Qxa5,Bb2,h6,Ra1,Qb6,Ne5,Ke7,Ra8,Rd8,Qa2,Qb7', 'Ra7,Qxa7,Qxa7+', 'https://lichess.org/training/8QnMC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8QR2R', 'Rapid', 'FabioFognini', 1607, 'amanlata2014', 1623, 'e4,e6,d4,g6,e5,Qe7,Nf3,b6,Bg5,Qb4+,Nc3,Qxb2,Nb5,Na6,Bc4,Qb4+,Nd2,Bh6,Be3,Bxe3,fxe3,Bb7,Rb1,Qe7,O-O,Qg5,e4,Qe3+,Kh1,Bxe4,Re1,Bxg2+,Kxg2,Qg5+,Kh1,Nh6,Ne4,Qh4,Qf3,O-O,Nf6+,Kg7,Nxd7,Rfd8,Nf6,Nf5,Rf1,c5,d5,exd5,Bxd5,Rab8,e6,fxe6,Bxe6,Rd2,Ng4,Rf8,Qb7+,Kh8,Qxa6,Ng3+,Kg1,Nxf1,Rxf1,Rxf1+,Kxf1,Rd1+,Ke2', 'Qe1+,Kf3,Qxe6', 'https://lichess.org/training/8QR2R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8qroL', 'Rapid', 'Vwbuscamdust', 1815, 'Greminja', 1929, 'e4,Nf6,Nc3,d5,e5,Ne4,d4,Bf5,Nf3,Nxc3,bxc3,e6,Bd3,Bxd3,cxd3,c5,Qa4+,Nc6,Ba3,Qa5,Qxa5,Nxa5,Bxc5,Bxc5,dxc5,Rc8,d4,Nc4,O-O,b6,cxb6,axb6,Rab1,Ra8,Ra1,Ra3,Rfc1,Ke7,Rc2,Rha8,Kf1,h6,g4,f6,exf6+,gxf6,Ke2,e5,dxe5,fxe5,g5,hxg5,Nxg5,Rh8,h3,Rh5,Rg1,Kf6,h4,Rxh4,Nf3,Re4+,Kf1,Rf4,Ke2,e4,Nd4,Ne5,Rb1,Nd3,Rxb6+,Kg5,Ne6+,Kf5,Nxf4,Kxf4,Rf6+,Ke5,Rf8,Nf4+,Ke3,d4+,Kd2,d3,Rb2,Ne2,Re8+,Kf4,Rf8+,Kg4,Rg8+,Kf3,Rf8+,Kg2,Ke3,Rxc3,Kxe4,Rc2,Rg8+,Kxf2,Rf8+,Ke1,Rb1+,Kd2,a4', 'Nc3+,Kd4,Nxb1', 'https://lichess.org/training/8qroL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8qxbI', 'Rapid', 'Underblunder', 1862, 'FriendlyYt', 1885, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Bd3,d5,exd5,cxd5,O-O,Be7,Re1,O-O,Bg5,h6,Bh4,Be6,Nd2,Rb8,Nb3,c5,Bxf6,Bxf6,Nxc5,Bxb2,Nxe6,fxe6,Rb1,Qf6,Re3', 'Qxf2+,Kh1,Qxe3', 'https://lichess.org/training/8qxbI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Qxgx', 'Classical', 'awaman', 1981, 'Hamada-mostafa', 1952, 'b3,d5,d4,c5,dxc5,e5,Bb2,d4,e3,Bxc5,exd4,Bxd4,Bxd4,exd4,h3,Nf6,Nf3,Nc6,Bb5', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/8Qxgx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8qzHP', 'Rapid', 'Netzmedinovfun', 2010, 'FM Martollyna', 2134, 'e4,e5,Bc4,Nc6,Nf3,Bc5,O-O,Nf6,Nc3,d6,d3,h6,Be3,Bb6,a3,g5,b4,Bg4,h3,Bh5,g4,Bg6,Nd5,Nxd5,Bxd5,Qf6,c4,Nd8,c5,c6,cxb6,cxd5,exd5,axb6,Re1,O-O,Bxb6,Qe7,d4,f6,Nd2,Nf7,Nc4,Rfc8,Rc1,Qd7,Ba5,Qe8,Nb6,Rxc1,Qxc1,Rb8,Qc7,Qd8,Rc1,exd4,Nd7,Qxc7,Rxc7,Ra8,Rxb7,Bc2,Rc7,d3,Nxf6+,Kf8,Ne4,Bb3,Nd2,Bxd5,Rc3,Re8,Kf1,Ne5,b5,Ra8,Bb4,Ke7,Rc7+,Ke6,Ke1,h5,gxh5,Rh8,b6,Rxh5,b7,Rxh3,b8=Q', 'Rh1+,Nf1,Nf3+,Kd1,Rxf1+,Be1,Rxe1#', 'https://lichess.org/training/8qzHP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8r2LY', 'Classical', 'Tomikor75', 1667, 'drzony', 1838, 'e4,e6,d4,d5,e5,c5,Bb5+,Nc6,Nf3,Bd7,Nc3,Qb6,a4,cxd4,a5,Nxa5,Nxd4,Bxb5,Ncxb5,Nc4,b3,Nxe5,Be3,a6,Nxe6,Bb4+,Bd2,Nd3+,cxd3,Qxe6+,Kf1,Bd6,Qe1,Ne7', 'Qxe6,fxe6,Nxd6+', 'https://lichess.org/training/8r2LY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8raBf', 'Blitz', 'Belzeboom', 1567, 'RajHyde', 1557, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Be3,Nc6,Nc3,Nf6,f3,O-O,Bc4,a6,Qd2,b5,Bb3,Nxd4,Bxd4,Bb7,O-O-O,b4,Na4,a5,g4,Bc6,h4,Bxa4,Bxa4,Qc7,h5,Ne8,hxg6,Bxd4,gxh7+,Kh8,Qxd4+,Ng7,Qxd7,Qc4,Kb1,Rac8,Rd4,Qe2,Rhd1,b3,Bxb3,Qxf3,Qxe7,Kxh7,Rh1+', 'Qxh1+,Rd1,Qxd1#', 'https://lichess.org/training/8raBf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8raIs', 'Rapid', 'encargado', 1943, 'Valfon', 1787, 'e4,e5,Nf3,Nc6,d4,exd4,c3,dxc3,Nxc3,Bb4,Bc4,Bxc3+,bxc3,Nge7,O-O,O-O,Bg5,h6,Bh4,d6,h3,Be6,Bxe6,fxe6,Qb3,Qc8,Rfe1,Ng6,Bg3,Kh8,e5,d5,Qc2,Nge7,Nh4,Qe8,f4,Nf5,Nxf5,Rxf5,Red1,Na5,Rxd5,Qg6,Rd3,Nc4,Rad1,b5,Rd8+,Rxd8,Rxd8+,Kh7,Bf2,Rxf4', 'Rh8+,Kxh8,Qxg6', 'https://lichess.org/training/8raIs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8rbtf', 'Classical', 'kingrick1000', 1916, 'hoangducgx279993', 2069, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bb4+,Bd2,Nge7,Bxb4,Nxb4,Nxd4,d5,exd5,Nbxd5,O-O,O-O,Re1,a6,Qh5,Nf4,Qc5,b6', 'Qxe7,Qxe7,Rxe7', 'https://lichess.org/training/8rbtf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8rCm5', 'Classical', 'yolodog', 2104, 'mohmohcom', 1920, 'e4,g6,d4,Bg7,f4,c5,c3,cxd4,cxd4,Nc6,Nf3,d5,e5,Nh6,Be3,Bg4,Be2,Nf5,Bf2,O-O,Nbd2,Qb6,b3,Nfxd4', 'Nxd4,Nxd4,Bxg4', 'https://lichess.org/training/8rCm5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8RD4d', 'Rapid', 'BoringLovechild', 1717, 'kon5-pedal5', 1735, 'c4,e5,Nc3,Nc6,g3,Nf6,Bg2,Bb4,Qb3,d6', 'Bxc6+,bxc6,Qxb4', 'https://lichess.org/training/8RD4d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8REFx', 'Rapid', 'vedanta_b_7', 1973, 'HiagoBriano', 1886, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,d6,c3,Nf6,O-O,Bg4,Re1,Bxf3,Qxf3,dxc3,Nxc3,Nd4,Qd3,Nc6,Bg5,Ne5,Qe2,Nxc4,Qxc4,Be7,e5,dxe5,Rad1,Qc8,Rxe5,Ng8,Nd5,f6,Nxc7+,Kf8,Ne6+,Ke8,Nxg7+,Kf8,Ne6+,Ke8,Nc7+,Kf8,Rxe7,Kxe7,Re1+,Kf8,Ne6+,Kf7,Nc7+,Kg6,Qe4+,f5,Qf4,h6,Re6+,Kg7,Qe5+,Kf7,Nxa8', 'Qxe6,Qxe6+,Kxe6', 'https://lichess.org/training/8REFx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8rEkE', 'Rapid', 'SiavashHuman', 1868, 'Vladimir_Srbija', 2081, 'e4,d5,exd5,Bf5,Bb5+,c6,dxc6,bxc6,Ba4,Qd5,Nf3', 'Qe4+,Qe2,Qxa4', 'https://lichess.org/training/8rEkE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8RM9i', 'Blitz', 'bulletblunder99', 1895, 'Fishyhardy', 1887, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Be3,a6,Be2,e6,O-O,Qc7,a3,Be7,Qd2,O-O,Bf3,b5', 'Nxc6,Qxc6,e5,Qxf3,gxf3', 'https://lichess.org/training/8RM9i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8ro4g', 'Rapid', 'emandr', 1857, 'Brat2', 1923, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Bf5,Be2,e6,O-O,Nf6,Nc3,a6,Bg5,Be7,h3,Nc6,Re1,O-O,a3,Rc8,Rc1,b5,Bd2,Qb6,Be3,Ne4,Nxe4,Bxe4,c3,Na5,Ne5,Nc4,Nd7,Qc6,Nxf8,Kxf8,Bxc4,bxc4,Qh5,Rb8,Re2,Rb3,f3,Bd3,Rd2,h6,Qg4,Qb7,Qg3,Rxb2,Rxb2,Qxb2,Qc7,Qb5,Qc8+,Qe8,Qxe8+,Kxe8,a4,Kd7,Ra1,Bc2,Ra2,Bb3,Ra1,Bd8,g4,Kc6,Kf2,Kb6,Ke2,Ka5,Kd2,Bxa4,f4,Kb5,Rb1+,Bb3,Ke2,a5,f5,a4,Bc1,Be7,Ra1,exf5,gxf5,Bc2,Ra2,Bxf5,Rb2+,Kc6,Ra2,a3,Bxa3,Bxa3,Rxa3,Kd6,Ra6+,Ke7,h4,Be4,Ke3,f6,Ra7+,Kf8,Kf4,g5+,hxg5,hxg5+,Kg4,Bd3,Rc7,Be4,Ra7,Ke8,Rc7,Kd8', 'Rf7,f5+,Kxg5', 'https://lichess.org/training/8ro4g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8rqsF', 'Blitz', 'drewling', 2291, 'WIM Olenahess', 2206, 'c4,d6,Nc3,c5,g3,Nc6,Bg2,g6,e4,Bg7,Nge2,e6,d3,Nge7,Be3,O-O,Qd2,Nd4,h4,Nec6,h5,Qf6,f4,Nxe2,Qxe2,Nd4,Qd2,Rb8,g4,Qe7,O-O-O,f5,hxg6,hxg6,exf5,exf5,Nd5,Qf7,g5,Be6,Rh3,b5,Rdh1,bxc4,dxc4,Bxd5,Bxd5,Ne6,b3,Rfe8,Rh7,Kf8,Qa5,Qc7,Rh8+,Bxh8', 'Rxh8+,Ke7,Rh7+', 'https://lichess.org/training/8rqsF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8RS8y', 'Rapid', 'JeremiasB', 1651, 'Mark_Iorio', 1656, 'd4,g6,c4,Bg7,Nc3,d6,e4,e5,d5,a6,Be2,Ne7,Be3,O-O,Qd2,c6,h4,b5,cxb5,axb5,h5,cxd5,hxg6,fxg6,exd5,Nf5,Bh6,Nxh6,Rxh6,Bxh6,Qxh6,Bf5,Nf3,Qe7,Ng5,Qg7,Qh4,Nd7,Bxb5,Nf6,Kd2,Rab8,b3,e4,Be2,Nxd5,Bc4,Qxc3+,Ke2,Bg4+,Qxg4,Qxa1,Bxd5+,Kg7,Ne6+,Kg8,Nxf8+,Kxf8,Qf4+,Ke8,Qf7+,Kd8,Qf8+,Kc7', 'Qe7+,Kb6,Qxd6+', 'https://lichess.org/training/8RS8y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8ru1J', 'Rapid', 'Question274', 1638, 'odellbeckhamjr13', 1634, 'e4,c5,Nf3,Nc6,Nc3,a6,d4,cxd4,Nxd4,Nxd4,Qxd4,e6,e5,Ne7,Ne4,Nc6,Nd6+,Bxd6,Qxd6,b5,Be3,Bb7,O-O-O,Bc8,Be2,Ne7,Bb6,Nf5,Qc5,Qg5+,Kb1,Qxg2,Bc7,Qc6', 'Qxc6,dxc6,Rd8+,Ke7,Rxh8', 'https://lichess.org/training/8ru1J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8RyGJ', 'Rapid', 'Mohamad1GROZA1', 1750, 'Dragon_Of_The_West', 1697, 'Nf3,d5,d4,Nf6,c4,dxc4,Nc3,e6,e4,c5,Bxc4,Nc6,dxc5,Bxc5,O-O,O-O,Bg5,h6,Qxd8,Rxd8,Bxf6,gxf6,Rfd1,Nd4,Nxd4,Bxd4,Ne2,e5,Rd3,b5,Bxb5,Rb8,Bc6', 'Bxf2+,Kxf2,Rxd3', 'https://lichess.org/training/8RyGJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8rYsN', 'Blitz', 'kmitchell', 1891, 'JesuslovesuFlatearth', 1906, 'd4,d5,e3,e6,Nf3,c6,a3,Bd6,Nbd2,Nd7,c4,Nf8,c5,Bc7,b4,Qe7,Bb2,f6,Nb3,Bd7,Bd3,O-O-O,O-O,h5,Qe2,g5,b5,h4,bxc6,Bxc6,Bc3,g4,Ne1,g3,h3,gxf2+,Rxf2,e5,dxe5,fxe5,Na5,e4,Nxc6,bxc6,Ba6+,Kd7,Bxh8,Ng6,Bd4,Ne5,Qf1,Nh6,Rb1,Rg8,Rb7,Qe6,Rf6,Qxh3,Rxh6,Nf3+,Nxf3,exf3,Rh7+,Ke8,Rbxc7', 'Rxg2+,Qxg2,Qxg2#', 'https://lichess.org/training/8rYsN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8rZ7R', 'Rapid', 'saiful_ashar', 1948, 'Delfonics', 1986, 'Nf3,b6,d4,d5,Nc3,Bb7,Bf4,c5,dxc5,b5,Nxb5,Qa5+,Nc3,Ba6,Bd2,Qxc5,a3,d4,Ne4,Qb6,Bb4,Nc6,Qd2,Rb8,c3,Nxb4,axb4,dxc3,bxc3,Rd8,Qa2,Nf6,Nxf6+,Qxf6,Qxa6', 'Qxc3+,Nd2,Qxd2#', 'https://lichess.org/training/8rZ7R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8s64C', 'Blitz', 't1ncup', 2367, 'TomKrabat', 2206, 'f4,e5,fxe5,d6,exd6,Bxd6,Nf3,Bg4,e4,f5,exf5,Nf6,Bc4,Qe7+,Qe2,Nc6,O-O,Qxe2,Bxe2,O-O-O,Nc3,Bxf5,d3,h6,h3,Bc5+,Kh2,Nb4,Bd1,Bd7,a3,Nbd5,Nxd5,Nxd5,d4,Bd6+,Kg1,Bb5,Re1,Bg3,Re4,Nf6,Re7,g5,c3,Rhe8,Rxe8,Rxe8,Bc2,Bc6,Bd2,Bxf3,gxf3,Re2,Rd1,Nh5,Bd3', 'Bh2+,Kf1,Ng3#', 'https://lichess.org/training/8s64C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8sb9S', 'Blitz', 'mfofaria97', 1860, 'Ud90', 2169, 'e4,c6,g3,d5,e5,Nd7,d4,h5,h4,e6,Bg2,Be7,Nf3,c5,c3,b6,dxc5,Bxc5,c4,Qc7,cxd5,Nxe5,dxe6,Bxe6,O-O,Nxf3+,Qxf3,Rd8,Nc3,Nf6,Bf4,Qc8,Qc6+,Qxc6,Bxc6+,Kf8,Na4,Bd4,Rad1,Bh3,Rfe1,g6,Be5,Bxf2+,Kxf2,Ng4+,Kg1', 'Rxd1,Rxd1,Nxe5,Rd8+,Kg7,Rxh8,Kxh8', 'https://lichess.org/training/8sb9S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8SBnW', 'Classical', 'somethingpretentious', 2048, 'eie24', 2178, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,Nc3,d6,e4,g6,a4,Bg7,Bd3,O-O,Nge2,axb5,Nxb5,Ba6,Nec3,Qb6,O-O,Bxb5,Nxb5,Na6,Rb1,Nb4,b3,Nxd3,Qxd3,Nd7,Kh1,Rfc8,Be3,Qa5,Rbc1,Ne5,Qe2,Qb4,f4,Nd7,Qc4,Qa5,Qe2,Qb4,Qc4,Qa5,Qc2,c4,Bd2,Qa6,Bc3,cxb3,Qxb3,Nc5,Qb4', 'Nd3,Qb1,Nxc1', 'https://lichess.org/training/8SBnW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8sc73', 'Rapid', 'MarilinMonroe', 1943, 'Mc_Muffin', 1905, 'e4,e5,Nf3,Nc6,Bc4,Be7,O-O,Nf6,Re1,O-O,d4,d6,dxe5,dxe5,a3,Bg4,Qxd8,Raxd8,Nbd2,Rd7,h3,Bh5,g4,Bg6,Nh4,Bxe4,Nxe4,Nxe4,Nf5,Ng5', 'Nxe7+,Nxe7,Bxg5', 'https://lichess.org/training/8sc73');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8sCX5', 'Blitz', 'Lodka331', 2351, 'GM S_Guliev', 2490, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Bc4,Nc6,Bb3,Bd7,h4,Rc8,Qd2,Nxd4,Bxd4,b5,h5,a5,hxg6,hxg6,Bxf6,exf6,Qxd6,a4,Bd5,b4,Ne2,Rxc2,Nf4,Bb5', 'Bxf7+,Rxf7,Qxd8+', 'https://lichess.org/training/8sCX5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8sduw', 'Rapid', 'wellknownGM', 1971, '2700172', 1912, 'd4,f5,c4,e6,g3,c6,Nf3,d5,Bf4,Bd6,Bxd6,Qxd6,Bg2,Nd7,c5,Qc7,O-O,Ngf6,Nc3,O-O,Qc2,g6,e3,e5,Nxe5,Nxe5,dxe5,Qxe5,Ne2,Ne4,Nd4,Bd7,b4,a6,Rfd1,Kg7,a4,Qe7,a5,Rae8,Qb2,Qf6,h4,Qe5,Rac1,Nf6,Qe2,Nh5,Qc2,Nf6,Qd2,Ng4,Qd3,h6,Qc3,g5,hxg5,hxg5,Bf3,Nf6,Qd2,Kg6,Qd3,Ne4,Bg2,Kf6,Ra1,Rh8,Qa3,f4,exf4,gxf4,Qf3,Kg5,Qd3,fxg3', 'Nf3+,Kh5,Nxe5,gxf2+,Kf1', 'https://lichess.org/training/8sduw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8sE1U', 'Blitz', 'Dr_Martic', 2573, 'NM rickyrich', 2347, 'd4,Nf6,Nc3,e6,e4,d5,Bd3,dxe4,Nxe4,Nbd7,Nf3,Be7,Nxf6+,Nxf6,g4,b6,g5,Nd7,Be4,Rb8,Qe2,Bb7,Bxb7,Rxb7,Qe4,Qc8,Bf4,c5,d5,exd5,Qxd5,O-O,O-O-O,c4,Rhe1,Nc5,Ne5,c3,b4,Ne6,Nc6', 'Nxf4,Nxe7+,Rxe7', 'https://lichess.org/training/8sE1U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8SgCG', 'Rapid', 'jcarlamere2', 1694, 'THESUPERSTAR05', 1730, 'e4,c5,Nf3,d6,Bb5+,Bd7,Nc3,Bxb5,Nxb5,Nc6,d4,cxd4,Nfxd4,Nf6,O-O,Nxe4,Re1,Nf6,Nf5,d5,Nbd6+,Kd7,Nxf7,Qb6,Nxh8,e6,Nf7,exf5,Ne5+,Nxe5,Rxe5,g6,Bg5,Bg7,Bxf6,Bxf6,Rxd5+,Ke7,Qe2+,Kf8,Rad1,Re8,Qb5,Qe6,Kf1,Bxb2,Qxb2', 'Qe2+,Kg1,Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/8SgCG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8SHd7', 'Rapid', 'Andrius45', 2241, 'Dry_Eye', 1866, 'e4,d6,Nf3,e6,d4,g6,c4,Bg7,Nc3,Ne7,Bf4,Nbc6,d5,Ne5,Bxe5,dxe5,dxe6,Bxe6,Qa4+,Bd7,Qb4,b6,O-O-O,c5,Qb3,O-O,Be2,Qe8,Rd6,f5,Rhd1,Bc6,Nd5,Ba4,Nxe7+,Kh8,Nxg6+,hxg6,Qd3,Bxd1,Bxd1,Rd8,Ng5,Rxd6', 'Qh3+,Bh6,Qxh6+,Kg8,Qh7#', 'https://lichess.org/training/8SHd7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8SJYO', 'Blitz', 'Mioxxx', 1867, 'Nikka99', 1867, 'e4,Nf6,d3,e5,Nc3,Bb4,Bd2,d6,a3,Ba5,b4,Bb6,Be3,Bxe3,fxe3,Be6,Nf3,h6,Be2,Nc6,O-O,O-O,d4,exd4,exd4,Bd7,Bd3,a6,e5,dxe5,dxe5,Nh7,Qe1,Be6,Rd1,Qc8,Qe4,g6,Nd5,Bf5,Qh4,Bxd3,Nf6+,Nxf6,exf6,h5,Rxd3,Qg4,Qe1,Rfe8,Qd2,Kh7,Rd7,Rf8,Ng5+,Kg8,Rxc7,Rad8,Qc1,Ne5,h3,Qh4,Ne6,fxe6', 'Rg7+,Kh8,Qh6#', 'https://lichess.org/training/8SJYO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8sK8l', 'Rapid', 'toniknik1982', 1756, 'Otterchess', 1789, 'e4,c5,Bc4,Nc6,Nf3,g6,O-O,Bg7,c3,Nf6,d3,O-O,a4,a6,Nbd2,d6,Rb1,Bd7,Re1,Ne5,Nxe5,dxe5,Nf3,Ne8,h3,b5,axb5,axb5,Bd5,Ra7,b4,Nc7,bxc5,Nxd5,exd5,Bf5,Rxb5,Qxd5,d4,exd4,cxd4,Ra4,Rxe7,Bxd4,Be3', 'Ra1,Qxa1,Bxa1', 'https://lichess.org/training/8sK8l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8sMA1', 'Blitz', 'NM good_knight_kisses', 2392, 'Voltairovic', 2362, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,h5,Be2,e5,Ndb5,d6,Nd5,Nxd5,exd5,Ne7,c4,Nf5,Bxh5,g6,Be2,a6,Nc3,Qh4,g3,Qh3,Bf1,Qh7,Bg2,Nd4,Be3,Bh3,Bxh3,Qxh3,Bxd4,Qg2,Rf1,exd4,Qxd4,Rxh2,O-O-O,O-O-O,Qf6,Bh6+,Kb1,Rd7,Rde1,Qh3,Re8+,Kc7,Rfe1,Qg4,R8e7,Qf5+,Qxf5,gxf5,Rxd7+,Kxd7,f4,Rh3,Rg1,Bg7,Ne2,Rh2,Nc3,Bxc3,bxc3,Rf2,g4,Rxf4,gxf5,Rxf5,Rg7,Kc7,Kc2,Kb6,Kb3,Kc5,Rg8,Rf1,Rc8+,Kb6,a4,a5,Rf8,f5,Rf7,f4,Rf6,Kc7,Kc2,f3,Kd3,f2,Ke2,Ra1,Rxf2', 'Ra2+,Kf3,Rxf2+,Kxf2,Kb6,Ke3,Kc5,Kd3,b6,Ke3,Kxc4', 'https://lichess.org/training/8sMA1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8sMCJ', 'Rapid', 'antipositional', 2226, 'msmns', 2082, 'c4,Nf6,g3,g6,Bg2,Bg7,d4,O-O,Nc3,c5,e3,cxd4,exd4,d6,Nge2,Qc7,b3,Nc6,Bb2,Bg4,O-O,Rfd8,h3,Bd7,d5,Nb8,Qd2,a5,a4,Na6,Nd4,Nc5,Rae1,e5,dxe6,fxe6,Qd1,Qb6,Ncb5,e5,Ne2,Bf5,Nec3,Bd3,Re3,Bxf1,Kxf1,Bh6,Re2,Rf8,Nd5,Nxd5,Bxd5+,Kh8,Nxd6,Bg7,Nb5,Rae8,Kg2,Ne6,Bxe6,Qxe6,Nc3,Qf5,Nd5,Qf3+,Kg1,Qf5,Kg2,Qf3+,Kg1,e4,Bxg7+,Kxg7,Qd4+,Kg8,Qe3,Qxe3,Rxe3,Rf3', 'Rxf3,exf3,Nf6+,Kf7,Nxe8', 'https://lichess.org/training/8sMCJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8SW8m', 'Rapid', 'Ocean56', 2288, 'Impassive', 2012, 'e4,e5,Nc3,Nf6,Bc4,c6,Nf3,d5,exd5,cxd5,Bb5+,Bd7,Nxe5,d4,Qe2,Be7,Ne4,Nxe4,Qxe4,Bxb5,Qxb7,O-O,Qxb5,Bf6,O-O,a6,Qb7,Bxe5,Qxa8,Qd6,Qf3,Bxh2+,Kh1,Be5,g3,Nd7,d3,Bf6,Bf4,Qb6,b3,Re8,Rae1,Rc8,Re2,h6,Rfe1,g5,Qg4,Qc6+,Kh2,Kh7,Bc1,Qd5,f4,gxf4,Bxf4,Rg8,Qh3,Bg7,Re7,Nf6,R1e5,Qf3,Qf5+,Kh8,Re2,Ng4+,Kg1,Bf6,Rh2,Bxe7,Rxh6+,Nxh6,Be5+,f6,Qxf3,fxe5,Kf1', 'Rf8,Qxf8+,Bxf8', 'https://lichess.org/training/8SW8m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8SxdV', 'Blitz', 'HarrySchnotter', 1608, 'jrkkoeln', 2099, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Nxd5,Qxd5,d4,Nc6,Nf3,Bg4,Be2,e5,Nxe5,Bxe2,Qxe2,Nxd4,Ng6+,Kd8,Nf4,Qd7,Qd3,Nxc2+,Qxc2,Bb4+,Bd2,Re8+,Ne2,Bd6,Rd1,c6,Be3,Kc7,O-O,Rad8,Qxh7,Rh8,Qxg7,Rxh2,Bf4,Rdh8,Bxd6+,Qxd6,Ng3', 'Rh1+,Nxh1,Qh2#', 'https://lichess.org/training/8SxdV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8sy6D', 'Rapid', 'nishant747', 2153, 'Artin_mox', 2037, 'e4,d5,exd5,Qxd5,Nc3,Qd6,h3,Nf6,Nf3,g6,Bc4,Bg7,O-O,O-O,d3,a6,Be3,b5,Bb3,Bb7,a3,Nbd7,Ng5,Ne5,Nge4,Nxe4,Nxe4,Qc6,f3,h6,Qe1,Kh7,Qh4,Rad8,Rf2,a5,f4,Nd7,f5,Nf6,fxg6+,fxg6,Ng5+,Kh8,Ne6,Nh5,Nxd8,Rxd8,Raf1,Bf6,Rxf6', 'Qxg2#', 'https://lichess.org/training/8sy6D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8sYKB', 'Classical', 'Copperbottom84', 1695, 'pamUcak3000', 1684, 'e4,b6,Nc3,Bb7,f4,e6,Bc4,c5,d4,cxd4,Qxd4,Nf6,Nf3,Bc5,Qd3,O-O,e5,Nd5,Nxd5,exd5,Bxd5,Bxd5,Qxd5,Nc6,c3,Re8,b4,Bf8,Ng5,Re7,Ba3,d6,Qxc6,Rc8,Qe4,g6,c4,f6,Qd5+,Kg7,Bb2,Kh6,Nf7+,Rxf7,Qxf7,dxe5,O-O,Bxb4,fxe5,Bc5+,Kh1,Rc7,Bc1+,g5,Qxf6+,Qxf6,exf6,Rf7,h4,Bd4,Bxg5+,Kg6,Rad1,Bb2,Rd8,h6,Rg8+,Kh7,Rg7+,Rxg7,f7,Ba3,Be3,Bf8,Bd4,Rg4,Bf2,Rf4,g3,Rxf7,Kg2,Bd6,Rd1,Bc7,Re1,Bd6,Re8,Rc7,h5,Rxc4,Kf3,Rc3+,Ke4,Rc2,Bd4', 'Re2+,Be3,Bc5', 'https://lichess.org/training/8sYKB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8t4X7', 'Blitz', 'klacrox', 2029, 'Lu-Archer', 1942, 'd4,Nf6,Nf3,e6,c4,Bb4+,Nc3,c5,a3,Bxc3+,bxc3,Nc6,Qc2,b6,e4,d6,Bd3,e5,O-O,Ba6,Bg5,h6,Bh4,g5,Bg3,Qe7,a4,Na5,Qe2,Nh5,dxe5,dxe5,Bxe5,f6,Bg3,Nf4,Bxf4,gxf4,e5,O-O-O,exf6,Qxf6,Rad1,Qxc3,Qe6+,Kb8,Ne5,Rhe8,Nd7+,Ka8,Be4+,Bb7,Bxb7+,Kxb7,Qd5+,Ka6,Qd6,Nxc4,Nxc5+,Ka5,Nb7+,Ka6,Nc5+,Ka5,Nb7+,Ka6,Qc6,Rxd1', 'Nc5+,Ka5,Qb5#', 'https://lichess.org/training/8t4X7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8t5Dv', 'Blitz', 'CXZ18', 1720, 'princeyam', 1771, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Nxe5,Nxe5,d4,Bb4,dxe5,Qe7,f4,g5,a3,Bxc3+,bxc3,gxf4,Bxf4,b6,Bd3,Bb7,O-O,O-O-O,a4,a5,Qe2,Qc5+,Kh1,Qxc3,Ba6,Ne7,Bxb7+,Kxb7,Rab1,Nc6,Rfd1,Nxe5,Bxe5,Qxe5,Rd5,Qc3,Rb3,Qa1+,Rd1,Qe5,Rdb1,Rde8,Qf2,Qxe4', 'Rxb6+,cxb6,Qxb6+,Kc8,Qb8#', 'https://lichess.org/training/8t5Dv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8T8TH', 'Rapid', 'Aserd', 1604, 'EletrickPark', 1671, 'Nf3,Nc6,d4,d5,c4,e6,cxd5,exd5,e3,Nf6,Bb5,Bg4,h3,Bh5,Nbd2,Bd6,O-O,O-O,a3,Qe7,Bd3,Nd8,b4,Ne6,b5,Ng5,Be2,Nge4,Bb2,a6,a4,axb5,axb5,c6,b6,Bb4,Nb3,Nc3,Bxc3,Bxc3,Ra7,Rxa7,bxa7,Ra8,Qc2,Qb4,Qa2,Ne4,Rb1,Qb6,Nc5,Qxa7,Qxa7,Rxa7,Nxb7,Ra2,Kf1', 'Bxf3,gxf3,Nd2+,Kg2,Nxb1', 'https://lichess.org/training/8T8TH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8TBkr', 'Blitz', 'IM roberto835877', 2538, 'vizir7', 2337, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,Bxc3+,bxc3,Qc7,Nf3,Ne7,a4,b6,Bb5+,Bd7,Bd3,c4,Be2,Nf5,h4,h5,g3,Nc6,O-O,O-O-O,Re1,f6,Bf4,Qb7,Bf1,Rdg8,Qd2,g5,hxg5,fxg5,Bxg5,h4,Bxh4', 'Nxh4,Nxh4,Rxh4', 'https://lichess.org/training/8TBkr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8TBvF', 'Rapid', 'Nero0000', 1690, 'Zijad', 1627, 'd4,Nf6,Bf4,d5,Nf3,e6,e3,a6,Bd3,h6,Nbd2,Nbd7,c3,c5,c4,cxd4,exd4,b5,cxb5,axb5,Bxb5,Ba6,a4,Bb4,O-O,Bxd2,Qxd2,O-O,Bxh6,Ne4,Qf4,Bxb5,axb5,Rxa1,Rxa1,gxh6,Qxh6,Qf6,Qc1,e5,Ra6,Qf4,Qa1,exd4,b3,d3,b6,d2,b7,Ndc5,Ra2,Nxb7,Nxd2,Nbc5,Nxe4,Nxe4,Ra4,Qxf2+,Kh1,Nd2', 'Rg4+,Kh7,Qg7#', 'https://lichess.org/training/8TBvF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8tC4x', 'Rapid', 'chessdragon86', 1623, 'Havstad', 1605, 'e4,d5,e5,Bf5,Bd3,Bxd3,cxd3,e6,d4,Nc6,Nf3,Nge7,O-O,Nf5,Qa4,Qd7,Nc3,O-O-O,Nb5,Kb8,d3,h6,Be3,g5,h3,a6,Nc3,Nb4,Qxd7,Rxd7,a3,Nxd3,b4,b6,g3,Nxe3,fxe3,Bg7,Ra2,f5,Rd1,Nxe5,Nxe5,Bxe5,dxe5,h5,b5,a5,h4,Rg8,hxg5,Rxg5,Kg2,h4,Ne2,Rdg7,Kh3,hxg3,Rg1,g2,Ng3,Rh7+,Kxg2,Rg4,Rf2,Rhg7,Kf3,Ra4,Ra2,Rgg4,Rgg2,f4,Nf1,Rxg2,Kxg2,fxe3,Nxe3,Re4,Kf3,Rxe5,Ng4,Rf5+,Kg3,d4,Re2,Rxb5,Rxe6,Rb3+,Kf4,Rxa3,Nf2,Kb7,Re4,Re3,Rxd4,Re2,Ne4,c5,Rd7+,Kc6,Rh7,Kd5', 'Nc3+,Kd4,Nxe2+', 'https://lichess.org/training/8tC4x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8TehF', 'Rapid', 'jotaele89', 1980, 'egor_martirosyan', 1971, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Bxc6,Bxc6,Nxc6,bxc6,O-O,Nf6,Re1,Be7,Bg5,O-O,e5,dxe5,Qxd8,Rfxd8,Nc3,h6,Bh4,g5,Rxe5,Bd6,Rf5,gxh4,Rxf6,Kg7,Rf3,Rab8,b3,Be5,Re1,Bxc3,Rxc3,Rd6,h3,Kf6,Re4,Kg5,Rc5+,Kg6,Rxh4,Re8,Rhc4,Ree6,Ra4,Re1+,Kh2,Re2,f3,Kg7,Rg4+,Kf8,Rcc4,a6,Ra4,c5,Rac4,Rc6,Rge4,Rg6,Rg4,Rc6,a4,Rd2,Rc3,Ke7,Re4+,Kd7,Rd3+,Rxd3,cxd3,Rd6,Re3,Kc6,g4,Rd7,f4,Kd5,Kg2,Kd4,Kf2,Kc3,Ke2,Kxb3,d4+,Kxa4,dxc5,Kb5,Rc3,Rd5,c6,Rd6,g5,hxg5,fxg5,a5,h4,a4,Rc1,Rxc6,Rb1+,Kc4,Rc1+,Kb5,Rb1+,Kc5,Ra1,Kb4,Rb1+,Ka3,Ra1+,Kb3,Rb1+,Ka2,Rb8,a3,h5,Rc5,h6,Rxg5,h7,Rh5,h8=Q,Rxh8,Rxh8,Kb2,Rb8+,Kc3,Ra8,Kb2,Kd2,a2,Rb8+,Ka1,Ke3,c5,Kd3,f5,Kc4,f4,Kxc5,f3,Rf8', 'Kb2,Rxf3,a1=Q', 'https://lichess.org/training/8TehF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8ThNp', 'Classical', 'Piotr_Kris', 1818, 'Kamalbb10', 1835, 'e4,c6,d4,d5,Nc3,a6,Bd3,dxe4,Bxe4,Nf6,Bf3,Bf5,Bg5,e6,h4,h6,Be3,Nbd7,Na4,Qa5+,Nc3,Bb4,Ne2,Nb6,a3,Bxc3+,Nxc3,Nbd5,b4,Nxc3,Qd2,Qa4,Qxc3,O-O,Bd1,Nd5,Qd2,Nxe3,fxe3,Rad8,g4,Be4,c3,Qb5,Rg1,e5,h5,exd4,exd4,Rfe8,Kf2,Rd5,Rc1,Qd3,Qxd3,Bxd3,Bc2', 'Re2+,Kf3,Rxc2', 'https://lichess.org/training/8ThNp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8TjV5', 'Rapid', 'mangesh_nirgude', 1900, 'R_FISHER', 2133, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,Be7,Qc2,c6,e3,O-O,Bd3,h6,Bh4,Nbd7,Nge2,Re8,O-O,Ne4,Bxe7,Qxe7,f3,Nxc3,bxc3,Qxe3+,Kh1,Qe7,Rae1,Nf6,Qd2,Qd6,Ng3,Bd7,Re5,Rxe5,dxe5,Qxe5,Re1,Qd6,Nf5,Bxf5,Bxf5,Re8,Rb1,b6,c4,Qe5,Bd3,Qe3,Qc3,dxc4,Qxc4,c5,Qc3,Nd5,Qc4,Qd4,Qb5,Re3,Rd1,Nc3,Qa6,Qxd3,Qxd3,Rxd3,Rxd3,Nxa2,Ra3,Nb4,Rxa7,c4,Rb7,Nd5,Rd7,c3', 'Rxd5,c2,Rd8+,Kh7,Rc8', 'https://lichess.org/training/8TjV5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8tkcJ', 'Classical', 'champ7uwe', 1868, 'filippsterg', 1964, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,Nxe5,d5,Bb3,Qd6,Nf3,Bg4,d3,Nf6,O-O,Be7,Re1,O-O,h3,Be6,Nd4,c6,Nd2,Bd8,Nxe6,fxe6,Nf3,Bc7,Bg5,Nbd7,Bh4,Nh5,d4,Rf4,Bg5,Raf8,Bxf4,Nxf4,Ne5,Nxe5,dxe5,Qc5,Qg4,Bb6,Rf1,Qd4,g3,Nxh3+,Qxh3,Rxf2,Rxf2,Qxf2+,Kh1,Qf3+,Qg2,Qh5+,Qh2,Qxe5,Rf1,Bc7,Kg2,Qe2+,Rf2,Qe4+,Rf3,Qe2+,Rf2,Qe4+,Kf1,Bb6,Re2,Qf3+,Ke1,Bc7,Kd1,Bxg3,Qg2,Qf4,Rxe6,Qg4+,Re2,h5,Kc1,h4,Re4', 'Bf4+,Rxf4,Qxg2', 'https://lichess.org/training/8tkcJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8tl5E', 'Rapid', 'Poetrician', 1982, 'phernando39', 1983, 'd4,Nf6,Bf4,b6,e3,Bb7,c3,h5,h3,d6,Nd2,Nbd7,Ngf3,Nd5,Bh2,f6,Bd3,Rh6,e4,Ne3,fxe3,Rg6,Qe2,e5,Nh4,Rg5,Nf5,Be7,h4,Rg4,d5,Nc5,Bb5+,Kf8,Nxe7,Qxe7,Bc6,Ba6,c4,Rb8,Bb5,Bb7,b4,Nxe4,Nxe4,Rxe4,O-O,g6,Qf3,f5,Rac1,Kg7,Ba4,Rxh4,g3,Rg4,Bd1,h4,Qf2,hxg3,Bxg3,Rg5,Re1,Rh8,Kf1,c6,Bh4', 'Rxh4,Qxh4,Rg1+,Kxg1,Qxh4', 'https://lichess.org/training/8tl5E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8TMNO', 'Classical', 'nonEsiste', 1691, 'StanislavSa', 1728, 'e4,Nc6,d4,e5,c3,exd4,cxd4,Bb4+,Nc3,d6,a3,Bxc3+,bxc3,Bd7,Nf3,h6,Bd3,Nge7,O-O,Ng6,h3,O-O,Be3,a6,Rb1,b6,Qd2,f5,exf5,Bxf5,Bxf5,Rxf5,Qd3,Qf8', 'Qc4+,Qf7,Qxc6', 'https://lichess.org/training/8TMNO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8TPeU', 'Rapid', 'tanphatls987', 1948, 'ewqer', 2019, 'e4,d5,exd5,Nf6,c4,c6,dxc6,Nxc6,Nf3,Bg4,h3,Bh5,Be2,e5,d3,Bc5,O-O,O-O,Nc3,Rb8,Ne4,Nxe4,dxe4,Bxf3,Bxf3,Nd4,Be3,Qf6,Bxd4,Bxd4,Rb1,Rfd8,Qc2,Rbc8,b4,Qe6,Rfc1,Rc7,Qe2,g6,Bg4,Qf6,a4,b6,Qa2,h5,Bf3,Qf4,Rc2,g5,Bxh5,Qxe4,Rbc1,Qh7,Be2,Rc6,a5,Rf6,Bf1,Qh4,axb6,axb6,Rd1,Bxf2+', 'Rxf2,Rxd1,Rxf6', 'https://lichess.org/training/8TPeU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8TPik', 'Rapid', 'inkognito001', 2007, 'damin_gambit', 2148, 'e4,d6,d4,Nf6,Nc3,Nbd7,Nf3,e5,dxe5,dxe5,Bc4,h6,O-O,Be7,Nd5,Nxe4,Re1,Nd6,Bb3,Bf6,Bf4,O-O,Nxe5,Nxe5,Bxe5,Bxe5,Rxe5,Be6,Qe2,Bxd5,Bxd5,Qf6,Bb3,Rae8,Re1,Rxe5,Qxe5,Re8,Qa5,Rxe1+,Qxe1,Qxb2,h3,Qf6,Qa5,Ne4,Qxa7,b6', 'Qa8+,Kh7,Qxe4+', 'https://lichess.org/training/8TPik');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8tq8p', 'Rapid', 'pavelsps', 1950, 'Ruslan404', 1798, 'c4,g6,d4,Bg7,Nf3,d6,e4,c5,d5,a6,Nc3,Nf6,h3,O-O,Bd3,Nbd7,Be3,Ne5,Nxe5,dxe5,Qd2,Nh5,g4,Nf4,Bxf4,exf4,Qxf4,Qa5,e5,b5,cxb5,axb5,O-O,c4,Be4,Bb7,a4,Qc7,d6,Qd7,Nxb5,Bxe4,Qxe4,exd6,exd6,Bxb2,Ra2,c3,Qc2,h5,Nxc3,Bxc3,Qxc3,hxg4,hxg4,Qxg4+,Qg3,Qc4,Rfa1,Kg7,Qe5+,f6,Qe3,Rae8,Qg3,Re4,f3,Re5,f4,Qd4+,Kg2,Rd5,a5,Rxd6,a6,Qd5+,Qf3,Qxf3+,Kxf3,Ra8,a7,f5,Rb2,Rd3+,Ke2,Rd7,Rba2,Rb7,Ra6,Rb4,R1a4,Re8+,Kf3,Rb3+,Kf2,Ra8,Ra3,Rb7,Kf3,Kh6,Kg3,Kh5,R6a5,Rb4,R5a4,Rb1,Kf2,Kg4', 'Rg3+,Kh4,Rxg6', 'https://lichess.org/training/8tq8p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8tRv5', 'Rapid', 'doesmite', 1874, 'O_Zarnik', 1801, 'e4,e6,d4,c5,Nf3,cxd4,Nxd4,Nc6,Be3,e5,Nf5,Qc7,Nc3,g6,Nd5,Qa5+,Bd2,Qd8,Nfe3,Nf6,Nxf6+,Qxf6,Nd5,Qd8,h4,d6,Bg5,Be7,Bb5,Qa5+,c3,Bxg5,Bxc6+', 'bxc6,hxg5,cxd5,Qxd5,Qxd5', 'https://lichess.org/training/8tRv5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8tt5i', 'Blitz', 'WIM Rachel2070', 2083, 'xersupmat22', 2069, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,h6,c3,d6,a4,a6,Re1,O-O,Nbd2,Bg4,Nf1,Be6,Bxe6,fxe6,b4,Ba7,Be3,Bxe3,Rxe3,Ng4,Re1,Ne7,Qb3,Qd7,Rad1,Kh8,d4,exd4,cxd4,Ng6,Rc1,e5,dxe5,N6xe5,Nxe5,Nxe5,Ne3,c6,f3,Qe7,Rcd1,Qg5,Kh1,Rf6,Nf5,Rg6,Ng3,Qh4,Kg1,Rf8,Re3,Qg5,Rd2,h5,Nf5', 'Nxf3+,Rxf3,Qxd2', 'https://lichess.org/training/8tt5i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8ttBr', 'Rapid', 'jacobswag', 1723, 'Utilizat0r', 1910, 'e4,e5,f4,exf4,Nf3,g5,h3,Bg7,d4,h6,Bc4,Nc6,Nc3,d6,a3,Bd7,Qd3,Qe7,Bd2,O-O-O,O-O-O,Nf6,Rde1,Nh5,Nd5,Qf8,Rhf1,Ng3,Rf2,Re8,Nb4,Nxb4,Bxb4,Nxe4,Rfe2,Bf5,Qb3,Re7,Bd5,Bg6,Bxe4,Rxe4,Rxe4,Bxe4,Rxe4,h5,Nxg5,f5,Ne6,Qf6,Qc4,c6,Re1,d5,Qc5,Re8,Qd6,Re7,Ba5,Rd7,Qxf4', 'Bh6,Qxh6,Qxh6+', 'https://lichess.org/training/8ttBr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8tVOJ', 'Rapid', 'masinfira', 1897, 'Cabrales', 1899, 'e4,e5,Bc4,Nf6,Nc3,Bb4,d3,O-O,Nf3,d6,O-O,Bg4,Bg5,h6,Bh4,g5,Bg3,Nc6,Qc1,Bxf3,gxf3,Nh5,Ne2,Nxg3,hxg3,Bc5,Kg2,Kg7,Rh1,f5,Qd2,f4,g4,a6,Rh5,b5,Bd5,Qd7,Rah1,Rf6,Bxc6,Qxc6,b3,Qb6,Nc3,c6,a4,Bb4,Qe1,Qc5,d4,Qxc3,Qxc3,Bxc3,dxe5,dxe5,Rd1,Bd4,c3,Bc5,Rd7+,Kg6,b4,Bd6,Rh1,bxa4,Rd1,Bf8,Ra1,Rd6,Rc7,Kf6,Rxa4,Ke6,c4,c5,Rxc5,Rb6,Rd5,Rxb4,Rxb4,Bxb4,c5,Ke7,Rxe5+,Kd7,Rd5+,Kc7,e5,a5,e6,a4,e7,Kc6', 'Rd8,Rxd8,exd8=Q', 'https://lichess.org/training/8tVOJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8twBn', 'Rapid', 'MEZIADI-OTMANE', 1682, 'Capitan_Ginyu1', 1610, 'e4,e6,Nf3,b6,Bc4,Bb7,Nc3,Nc6,d3,a6,Be3,Be7,Bb3,h6,Qd2,Qb8,O-O-O,Qa7,h3,O-O-O,g4,f6,d4,Bb4,d5,Ne5,d6,c5,a3,Ba5,Nxe5,fxe5,Qd3,Nf6,g5,Ne8,gxh6,gxh6,Rhg1,Kb8,Rg6,h5,Bg5,Rc8,Bxe6,Bc6,Bd5,Qb7,Bf6,Nxf6,Rxf6,Ka7,Bxc6,Qxc6,Nd5,h4,Ne7,Qb7,Nxc8+,Rxc8,Qf3,b5,Qg4,b4,Rf7,Rd8,Qxh4,bxa3,b3,a2,Kb2,c4,Rd5,a1=B+,Kxa1,Bc3+,Kb1,cxb3,Qxd8,bxc2+,Kxc2,Qb2+,Kd3,Qd2+,Kc4,Qe2+,Rd3,Qa2+,Kxc3,Qa1+,Kd2,Qa2+,Ke3,Qxf7,Qc7+,Ka8,Rb3,Qxb3+,Ke2,Qc2+,Kf1,Qxc7', 'dxc7,Kb7,h4,Kxc7,h5', 'https://lichess.org/training/8twBn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Tzij', 'Rapid', 'laidung2011', 1878, 'WilfriedBurundi', 1958, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,Bg4,Be2,Nc6,d3,e5,Be3,O-O-O,h3,Bh5,Qd2,Kb8,Qc3', 'Bb4,O-O,Bxc3', 'https://lichess.org/training/8Tzij');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8u8RD', 'Rapid', 'Mrpiano', 1684, 'karmirad5', 1624, 'e4,e5,Nf3,Qf6,d4,Nc6,d5,Nd4,Nxd4,exd4,c3,dxc3,Nxc3,Bb4,Bd2,a6,Be2,Qg6,O-O,Bd6,f4,Ne7,f5,Qf6,a3,b5,b4,Bb7,Rc1,Qh4,g3,Bxg3,hxg3,Qxg3+,Kh1,c6,Qe1,Qh3+,Kg1,cxd5,Nxd5,Nxd5,exd5,O-O,f6', 'Bxd5,Bf3,Bxf3,Rxf3,Qxf3', 'https://lichess.org/training/8u8RD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8UAjk', 'Classical', 'JaqenH_ghar', 1749, 'Matthiessen2dot0', 1678, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,f4,d6,Ng4,Qxe4+,Qe2,Qxe2+,Bxe2,Nxg4,Bxg4,Bxg4,h3,Bf5,d3,Be7,g4,Bd7,f5,Bf6,c3,O-O,Nd2,Bc6,Rh2,Re8+,Re2,Nd7,Rxe8+,Rxe8+,Kd1,Bh4,Nc4,Re1+,Kc2,Bf3,b3,Re2+,Bd2,b5,Ne3,Bg5,Re1,Bxe3,Rxe2,Bxe2,Bxe3,Bf1,Bxa7,c5,c4,b4,a4,Kf8,a5,Ke8,a6,Kd8,Bxc5,dxc5,a7,Bg2,Kd2,Nb6,Ke2,Bxh3,Ke3,Bxg4,Kf4,Bd1,Ke5,Kd7,d4,Bxb3,dxc5,Nxc4+', 'Kd4,Na5,a8=Q', 'https://lichess.org/training/8UAjk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8uD17', 'Blitz', 'Oncegood', 2395, 'solaum', 2378, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,e5,Nb3,Nf6,g3,Be7,Bg2,O-O,O-O,Be6,Re1,Qc7,Bd2,Rfd8,Nd5,Bxd5,exd5,Nb8,c4,Nbd7,Rc1,Rac8,Nd4,a6,Nf5,Bf8,b4,Qb6,a3,g6,Ne3,Bg7,f4,exf4,gxf4,Re8,Kh1,Ne4,Re2,Re7,Be1,Rce8,c5,dxc5,Nc4,Qf6,Bxe4,Rxe4,Rxe4,Rxe4,bxc5,Qxf4,Bg3,Qf5,c6,bxc6,dxc6,Nf8,Nd6,Qe6,c7,Rd4,Qxd4,Bxd4,c8=Q', 'Qd5+,Ne4,Qxe4#', 'https://lichess.org/training/8uD17');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8ueaY', 'Classical', 'ELTUSE', 1991, 'Giperbola', 1985, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,Nf3,Nc6,Bc4,Bb4,Bf4,Nge7,O-O,Bxc3,bxc3,d5,exd5,exd5,Bb5,O-O,Qd2,a6,Bxc6,bxc6,Rfe1,Be6,Ng5,Bf5,Nf3,Ng6,Ne5,Rc8,Nxg6,Bxg6,Bg5,Qc7,Re7,Qb6,Be3,Qb5,Re1,Be4,f3,Bd3,Bd4,Bg6,Qg5,Qd3,Qe5,f6,Qe6+,Bf7', 'Rxf7,Rxf7,Qxc8+', 'https://lichess.org/training/8ueaY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8UeWS', 'Blitz', 'ProfSLM', 2355, 'FM Henmon', 2330, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,c5,Nf3,Bg7,Rb1,cxd4,cxd4,O-O,Be2,Qa5+,Bd2,Qxa2,O-O,Nc6,d5,Ne5,Nxe5,Bxe5,f4,Bd4+,Kh1,a5,Bxa5', 'Rxa5,Qxd4,Qxe2', 'https://lichess.org/training/8UeWS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Ugjy', 'Rapid', 'jozaf85', 1662, 'DenisSimonov', 1931, 'Nf3,c6,d4,d5,Nc3,f6,Bf4,Nd7,e3,g5,Bd3,gxf4,exf4,Nh6,Nh4,Nf7,Nf5,e6,Qe2,Qc7', 'Qxe6+,Kd8,Qxf7', 'https://lichess.org/training/8Ugjy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8UhXq', 'Rapid', 'BEasy333', 1639, 'xfrogl', 1618, 'd4,d5,Bf4,Nc6,Nf3,Bf5,Ne5,Nb4,Nd3,Nxd3+,cxd3,e6,Nc3,Bb4,e4,Bg6,e5,f6', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/8UhXq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8UI5E', 'Blitz', 'chado7', 1619, 'Komits23', 1610, 'c4,g6,g3,Bg7,Bg2,Nf6,Nc3,c5,e4,Nc6,f4,d6,Nge2,O-O,Nd5,Bg4,h3,Bxe2,Qxe2,Nd4,Qd3,Nh5,b3,Nf3+,Bxf3,Bxa1,e5,Bd4,Bxh5,gxh5,g4,hxg4,hxg4,f5,gxf5,Rf7,f6,e6,Ne7+,Rxe7,fxe7,Qxe7,Qc2,dxe5,fxe5,Rf8,Bb2,Qg7,Bxd4', 'Qg3+,Kd1,Qf3+,Kc1,Qxh1+', 'https://lichess.org/training/8UI5E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8uJnT', 'Blitz', 'Jabk', 1594, 'ILikeTrans', 1708, 'd4,c6,e4,d5,e5,Bf5,Nc3,e6,f4,Nd7,Nf3,Ne7,Bd3,Bxd3,Qxd3,g6,O-O,Bg7,Be3,O-O,Qd2,Rc8,Nh4,Nf5,Nxf5,exf5,Ne2,Nb6,b3,a5,Ng3,Re8,Qe2,a4,c3,a3,Bc1,Ra8,Qd3,Qc7,c4,dxc4,bxc4,Bf8,c5,Nd5,Bxa3,Red8,Bb2,Nb4,Qb3,Qa5,h4,Rd5,h5,Rad8,hxg6,hxg6,Rfd1,Kg7,Bc3,Bxc5,dxc5,Qxc5+,Kh2,Rxd1,Rxd1', 'Rh8+,Nh5+,Rxh5+,Kg3,Qe3#', 'https://lichess.org/training/8uJnT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8uJOE', 'Blitz', 'QSmith03', 1702, 'Alexandr529', 1630, 'd4,c5,d5,d6,c4,Nf6,Nc3,e6,e4,Be7,h3,a6,Bd3,b5,b3,bxc4,bxc4,Bb7,Nf3,Qc7,O-O,O-O,a4,Nbd7,Bd2,exd5,exd5,Rfe8,Qc2,Ne5,Nxe5,dxe5,Ne4,Nxe4,Bxe4,Qd6,Bxh7+,Kh8,Be4,g6,Qc1,f5,Bc2,f4,f3,Kg7,Bb1,Bh4,Qc2,Bc8,Be1,Bg3,Bxg3,fxg3,f4,e4,Re1,e3,Ra3,Bf5,Qb2+,Kf7,Bxf5,gxf5,Raxe3,Rxe3,Rxe3,Qxf4,Qc3,Qf2+,Kh1,Rb8,Re1,Rb2,Rg1', 'Qxg1+,Kxg1,Rb1+,Qe1,Rxe1#', 'https://lichess.org/training/8uJOE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8UKcW', 'Classical', 'Marlov7', 1807, 'BabyThigh', 1815, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Nf6,d3,d5,exd5,Nxd5,O-O,Be6,Qe1,Bb4,c3,Bd6,c4,Ndb4,a3,Nxd3,Qe4,Nxc1,Rxc1,Na5,Ba2,bxc4,Nc3,O-O,Nxe5,Bxe5,Qxe5,Nc6,Qe4,Nd4,Rd1,c5,Ne2,Bd5,Qg4,f5,Qh5,g6,Qh3,Nxe2+,Kf1,Nf4,Qg3,Bxg2+,Qxg2,Qxd1+,Rxd1,Nxg2,Bxc4+,Kg7,Rd7+,Kh6,Kxg2,Rfd8,Re7,Rd2,b3,a5,a4,Rdd8,Re5,Rac8,Re3,Re8,Rh3+,Kg5,Rxh7,Re4,Ra7,Kg4', 'f3+,Kf4,fxe4', 'https://lichess.org/training/8UKcW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8ukOc', 'Classical', 'Kargamon', 2008, 'migriauliz', 1964, 'c4,d5,cxd5,Nf6,g3,Nxd5,Bg2,e6,Nc3,Bc5,e3,O-O,d4,Be7,Nge2,Nc6,O-O,a6,Qb3,Nxc3,bxc3,Qd7,Ba3', 'Na5,Qc2,Bxa3', 'https://lichess.org/training/8ukOc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8ul17', 'Rapid', 'lucaschaakt', 1874, 'eliasi', 1896, 'b3,e5,Bb2,Nc6,e3,d5,Bb5,f6,c4,Ne7,cxd5,Qxd5,Bxc6+,Nxc6,Nf3,Bg4,h3,Bh5,Nc3,Qd3,Rc1,O-O-O,Qe2,Nb4,a3,Qxe2+,Kxe2,Nd3,Rc2,f5,e4,Nf4+,Kf1,Nd3,exf5,Bc5,g4,Bf7,Na4,Bxf2,Bxe5,Nxe5,Nxe5,Bxb3,Rb2,Bxa4,Kxf2,Rhe8,Nf3,Bc6,Rc1,Rd3,Ng5,Rxa3,Nxh7,Rxh3,Ng5,Rh2+,Kg3,Ree2,Rcc2,Ba4,Rc4,Rxd2', 'Rxd2,Rxd2,Rxa4', 'https://lichess.org/training/8ul17');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8ULi0', 'Blitz', 'proglotova_zotova', 1603, 'yickxian556', 1713, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,Nc3,exd4,Nxd4,Nxd4,Bxd7+,Qxd7,Qxd4,Nf6,Bg5,Be7,O-O-O,O-O,Kb1,a6,f4,Rad8,h3,h6,Bxf6,Bxf6,e5,Be7,g4,Qc6,Nd5,Rfe8,Nxe7+,Rxe7,h4,Red7,e6,fxe6,g5,e5,Qf2,exf4,gxh6,Rf8,Rhg1,d5,hxg7,Rxg7,Rxg7+,Kxg7,Rg1+,Kh8,Qd4+,Qf6,Qxd5,f3', 'Qh5+,Qh6,Qxh6#', 'https://lichess.org/training/8ULi0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8UNEz', 'Rapid', 'ColoredGraphs', 1620, 'HugoEsteban', 1621, 'd4,d5,Bf4,Nf6,Nf3,Bf5,e3,c5,c4,Nc6,a3,e6,Nc3,Ne4,Be2,Nxc3,bxc3,Be7,O-O,O-O,cxd5,exd5,Bb5,c4,Qa4,Bd3,Rfd1,Qa5', 'Bxc6,Qxa4,Bxa4', 'https://lichess.org/training/8UNEz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8UOr6', 'Blitz', 'GoteNoSente', 2010, 'Xilften1', 1826, 'Nc3,d5,e4,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Nf3,Nd7,Bc4,e6,d4,Ngf6,Qe2,Be7,Ne5,Bh7,Nxf7,Kxf7', 'Qxe6+,Kf8,Qf7#', 'https://lichess.org/training/8UOr6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8UPCL', 'Rapid', 'ali_abo_hadid', 1919, 'HarishParewa123', 1912, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Bg5,O-O,O-O,Be7,Nbd2,d5,exd5,Nxd5,Bxd5,Bxg5,Bxc6,bxc6,Nxe5,Qf6,d4,Rd8,c3,c5,Ne4,Qf4,Nxg5,Qxg5,Qf3,Be6,dxc5,Qxe5,Rfe1,Qxc5,Rad1,Rxd1', 'Qxa8+,Qf8,Qxf8+,Kxf8,Rxd1', 'https://lichess.org/training/8UPCL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8upml', 'Bullet', 'DioBrandDough', 1803, 'Jerwinrubinas', 1805, 'e4,c5,Nf3,d6,d4,Nf6,Nc3,cxd4,Nxd4,a6,Bc4,e6,Bb3,Be7,O-O,Qc7,Qd3,b5,Qg3,Bb7,Qxg7,Rg8,Qh6,Nbd7,f3,Rg6,Qe3,O-O-O,Nce2,Rdg8,Nf4,R6g7,Bd2,e5,Nf5,exf4,Nxe7+,Kd8,Qxf4,Kxe7,g3,Ne5,Rad1,h5,Bb4,Ne8,Qxe5+,Kd8,Qxh5,d5,Bxd5,Rxg3+,hxg3', 'Qxg3+,Kh1,Qg2#', 'https://lichess.org/training/8upml');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8uS8Y', 'Blitz', 'robotodavec', 1625, 'M-3-M-0-R-Y', 1592, 'g3,d5,Bg2,Nf6,e4,dxe4,f3,exf3,Nxf3,g6,O-O,Bg7,c3,O-O,b3,b6,Bb2,Nbd7,d4,Bb7,Nbd2,c6,Rc1,c5,dxc5,Nxc5,Qe2,Nd3,Rb1,Nxb2,Rxb2,Qc7,c4,Rad8,Rbb1,Ba6,Rbd1,Qc5+,Kh1,b5,Ne4,Nxe4,Qxe4,bxc4,Rxd8,Rxd8,Rc1,f5', 'Qe6+,Kh8,Ng5,Rf8,Nf7+,Rxf7,Qxf7', 'https://lichess.org/training/8uS8Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8uvdy', 'Classical', 'santoshkuv', 1650, 'atharvaap10', 1714, 'h4,e5,g4,d5,d4,Nc6,dxe5,Nxe5,g5,f6,gxf6,Nxf6,Nf3,Nxf3+,exf3,Qe7+,Be2,Bf5,Bg5,O-O-O,Qd4,Kb8,Be3,Bxc2,Qxa7+,Kc8,Qa8+,Kd7,Bb5+,c6', 'Qxb7+,Ke6,Qxc6+,Kf7,Qxc2', 'https://lichess.org/training/8uvdy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8uvEi', 'Blitz', 'FshFshFsh', 1616, 'sfishman59', 1688, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,c5,Nf3,Nc6,a3,Bxc3+,bxc3,b6,Bd2,Ba6,Qa4,Qc8,Be2,O-O,O-O,Na5,Rfb1,d5,dxc5,bxc5,Qxa5,Bxc4,Bxc4,dxc4,Ne5,Rd8,Rd1,Qb8,Rab1,Qxe5,Kf1,Ne4,Ke2,Rd7,h3,Rad8,Rb2,Nxc3+,Bxc3,Qh5+,g4,Qxh3', 'Qxd8+,Rxd8,Rxd8#', 'https://lichess.org/training/8uvEi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Uwba', 'Rapid', 'Banana79', 1884, 'onelord0', 1913, 'e4,e5,Nf3,d5,exd5,Qxd5,Nc3,Qa5,d3,Nc6,Bd2,Bg4,Be2,Bc5,Ne4,Qb6,Nxc5,Qxc5,Be3,Qb4+,Bd2,Qxb2,Rb1,Qxa2,Rxb7,Nf6,O-O,h5,Rxc7,h4,Rxc6,Qd5,Nxe5,h3,Bxg4', 'Qxg2#', 'https://lichess.org/training/8Uwba');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8UwNg', 'Blitz', 'JLE512', 1635, 'santi810', 1619, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,Nf6,Nc3,a6,Bg5,e6,Nf3,Be7,e5,Nd5,h4,Nxc3,bxc3,Bxg5,Nxg5,Nxe5,Qh5,g6,Qh6,Qc7,Qg7,Qxc3+,Ke2,Rf8,Nxh7,Qxc2+,Ke3,Ng4+,Kf3,Qf5+,Ke2,Qb5+,Kf3,Qf5+,Kg3,Qxf2+,Kxg4,f5+,Kh3,Rf7,Qxg6,Qe3+,Kh2,Qf4+,g3,Qf2+,Kh3,d5,Ng5,f4,Qxf7+,Kd8,Qxf4', 'e5+,Qg4,Bxg4+,Kxg4,Qd4+,Kh3,Qxa1', 'https://lichess.org/training/8UwNg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8uXLa', 'Rapid', 'SabanM', 1644, 'ugurdln', 1680, 'e4,e5,Nf3,Nc6,Bb5,d6,d3,Bg4,h3,Bh5,Nc3,h6,Be3,Ne7,O-O,a6,Ba4,b5,Bb3,Nd4,g4,Nxf3+,Qxf3,Bg6,Rad1,h5,g5,Nc6,Bd5,Qd7,a3,Be7,Rd2,f5,h4,f4,Bxf4,exf4,Qxf4,Qg4+', 'Qxg4,hxg4,Bxc6+', 'https://lichess.org/training/8uXLa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8uyO3', 'Rapid', 'LeelaWannaBe', 1870, 'Lord_Melbury', 1866, 'c4,Nf6,d4,e5,dxe5,Ng4,f4,Bc5,e3,Nxe3,Bxe3,Bxe3,Qf3,Bb6,Nc3,Nc6,O-O-O,O-O,Bd3,Qh4,Nd5,Nd4,Qg3,Qxg3,Bxh7+,Kxh7', 'hxg3+,Kg6,Ne7#', 'https://lichess.org/training/8uyO3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8uzpa', 'Rapid', 'Yarilo46', 1720, 'zirx', 1661, 'c4,Nf6,Nc3,g6,d4,Bg7,e3,O-O,Nf3,d5,c5,b6,b4,bxc5,bxc5,c6,Qb3,Nbd7,Bd2,Re8,Bd3,e5,dxe5,Nxe5,Nxe5,Rxe5,Ne2,Bg4,Nd4,Qe8,Nxc6,Qxc6,Bc3,d4,Bxd4,Ree8,f3,Be6,Bc4,Rad8,Bxe6,Rxe6,O-O,Nd5,Bxg7,Kxg7,e4,Qxc5+,Kh1,Ne3,Rfe1,Nc2,Rac1,Rc8,Re2,Rd6,Qb2+,Kg8,Rexc2', 'Qxc2,Qxc2,Rxc2', 'https://lichess.org/training/8uzpa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8V8JX', 'Rapid', 'Y_Starovoit', 1737, 'vidlju', 1739, 'e4,e5,f4,Nc6,Nf3,exf4,Bc4,h6,d3,Bd6,Bd2,a6,a3,g5,Bc3,f6,Nd4,Nxd4', 'Qh5+,Ke7,Qf7#', 'https://lichess.org/training/8V8JX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8V9eA', 'Blitz', 'GM I_Enchev', 2562, 'PresidentEN', 2271, 'd4,e6,g3,Nf6,Bg2,d5,Nf3,c5,O-O,Nc6,c4,dxc4,dxc5,Qxd1,Rxd1,Bxc5,Nbd2,O-O,Nxc4,Bd7,Nfe5,Nxe5,Nxe5,Bb5,Nd3,Bxd3,Rxd3,Rad8,Bxb7,Rxd3,exd3,Ng4,Kg2,Nxf2,Ba6,Rd8,Bg5,f6,Rc1,Bb6,Bd2,Nxd3,Rc2,Nc5,Bc4,Kf7,b4,Ne4,Be1,g5,a4,f5,a5,Bd4,Bd3,Nf6,Bc4,Ke7,b5,Rb8,Bb4+,Kd7,Rd2,e5,Rd1,Ne4,g4,f4,Kf3,Nd6,Bd3,Nxb5,Bxh7,Nd6,Bxd6,Kxd6,Ke4,Rb5,a6,Ra5,Kf5,Rxa6,Kxg5,f3,Be4,f2,h4,Ke7,h5,Be3+,Kh4,Rd6,Ra1,Kf6,Kg3,Kg5,Bf5,a6,Kf3,Bd4,Rb1,Rb6,Rh1,Rb3+,Kg2,Rb6,Rc1,a5,Rc8,Kf4,Rf8,Ke3,g5,Ke2,Bg4+,Ke1,h6,e4,h7,Rg6,Kh2,Rxg5,Bh3,Rg1,Re8,e3,Re4,Bb6,h8=Q', 'Bc7+,Qe5,Bxe5+', 'https://lichess.org/training/8V9eA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8VARR', 'Rapid', 'DuendeMate', 1683, 'kjel', 1879, 'e4,d6,Nf3,g6,d4,Bg7,Nc3,Nf6,Bg5,Nbd7,Bb5,O-O,e5,Ne8,Bd3,dxe5,dxe5,Nxe5,Qe2,Nxf3+,Qxf3,c6,O-O-O,Qc7,Bf4,e5,Bg5,Be6,Ne4,f5,Nc5,Bxa2,b3,e4,Bxe4,fxe4,Qxe4,Rxf2,Rd7,Qa5,Rxg7+,Nxg7,Qc4+,Kh8,Bh6,b6,Bxg7+,Kxg7,Qd4+,Rf6,Ne6+,Kf7', 'Qd7+,Kg8,Qg7#', 'https://lichess.org/training/8VARR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8VEKM', 'Blitz', 'FM ZuchBolt', 2343, 'Paohgile98', 2339, 'e4,d6,d4,Nf6,Nc3,g6,f4,Bg7,Nf3,c5,Bb5+,Bd7,Bxd7+,Qxd7,d5,O-O,a4,e6,dxe6,Qxe6,Qe2,Re8,Ng5,Qe7,O-O,h6,Nf3,Nxe4,Nd5,Qd8,Qb5,b6,Nc7,Nd7,Nxa8,Ndf6,Nxb6,axb6,a5,bxa5,Rxa5,d5,Ra7,d4,Ne5,Qd5,Qb7,Nd6,Qxd5,Nxd5,Rd7,Re6,Nxf7,Nxf7,Rxd5,c4,Rc5,c3,bxc3,dxc3,f5,Bd4+,Kh1,Re2,Rc8+,Kg7,fxg6,Kxg6,Rc6+,Kh5,g4+,Kxg4,Rxf7,Re1+,Kg2', 'Rg1#', 'https://lichess.org/training/8VEKM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Vf2h', 'Rapid', 'saransh22', 1698, 'YnderCzir', 1660, 'd4,e5,dxe5,Nc6,Nf3,d6,Bf4,dxe5,Bxe5,Qxd1+,Kxd1,Nxe5,Nxe5,f6,Nf3,Bd6,g3,Ne7,e3,O-O,Bc4+,Kh8,Ke2,Bg4,Rd1,Be5,c3,Rad8,Nd2,Rd7,Bd3,Rfd8,Be4,b6,Kf1', 'Bxf3,Bxf3,Rxd2,Rxd2,Rxd2', 'https://lichess.org/training/8Vf2h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Vh0U', 'Blitz', 'Futgan', 1805, 'bringhenti', 1774, 'e4,d5,exd5,Qxd5,Nc3,Qd7,Nf3,Nc6,d4,e6,Bb5,Bd6,O-O,Nge7,Ne4,a6,Nxd6+,Qxd6,Ba4,b5,Bb3,Bb7,Be3,O-O-O,a4,b4,c3,Nd5,Bxd5,Qxd5,cxb4,Nxb4,Qd2,Nc6,b4,g5,b5,axb5,axb5,Ne7,b6,c5,Qa5,c4,Qb4,Nc6,Qa4,g4,Nd2,Nxd4,f3,gxf3,Nxf3,Nxf3+,Rxf3,Rhg8,Rc1,Qxf3,Rxc4+,Bc6,Rxc6+,Kb7', 'Rc7+,Kb8,Qa7#', 'https://lichess.org/training/8Vh0U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8vj1x', 'Classical', 'joker_201', 1862, 'arsenalfanrichi', 1876, 'd4,Nf6,c4,e6,Nf3,b6,a3,Bb7,e3,c5,Nc3,Be7,d5,d6,e4,O-O,Bg5,e5,Bxf6,Bxf6,Be2,Nd7,O-O,Be7,Nd2,f5,f3,Bg5,exf5,Be3+,Kh1,Rxf5,Nde4,Nf6,Qd3,Bd4,Nxd6,Rh5,Nxb7,Qe7,Nxc5,Nxd5,Nxd5', 'Rxh2+,Kxh2,Qh4#', 'https://lichess.org/training/8vj1x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8vMlP', 'Blitz', 'Elhlwagy11', 2141, 'Super_Goku_Z', 2053, 'd4,Nf6,Nc3,e6,e4,d5,Bg5,Be7,Bxf6,Bxf6,Nf3,O-O,Bd3,g6,h4,dxe4,Bxe4,Bg7,h5,f5,hxg6,fxe4,gxh7+,Kh8,Nxe4,e5,d5,Bg4,Qd3,Na6,a3,c6,d6,Qa5+,c3,Qd5,Qe2,Rad8,Rd1,Qb5,c4,Qa5+,Kf1,Bxf3,gxf3,Rf4,Ng5,Rdf8,d7,Rd4,Rxd4,exd4,Qe8,Qxg5,Rg1,Qd8,Qe6,Nc5,Qg4,Qe7,f4,Nd3,f5,Qe1+,Kg2,Qxf2+,Kh1,Be5', 'Qg8+,Rxg8,hxg8=Q#', 'https://lichess.org/training/8vMlP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8vnsB', 'Rapid', 'PO3A', 1852, 'f0r_fun', 1944, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Nxd4,Bxd4,Bxd4,Qxd4,Nf6,e5,Qe7,Be2,c5,Qd6,Qxd6,exd6,Ne4,Nc3,Nxd6,Nd5,O-O,O-O-O,Nf5,Rhe1,d6,Bg4,Rd8', 'Bxf5,Bxf5,Ne7+,Kf8,Nxf5', 'https://lichess.org/training/8vnsB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8vrrq', 'Rapid', 'heliojean', 1947, 'Bastnor', 1992, 'e4,c5,f4,d5,exd5,Nf6,c4,Bf5,Nf3,Nbd7,Be2,Qc7,d3,e5,Nxe5,Nxe5,fxe5,Qxe5,O-O,Bd6,Bf4', 'Qd4+,Kh1,Bxf4', 'https://lichess.org/training/8vrrq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8vSL9', 'Blitz', 'Askalel', 2352, 'chessGrandMa', 2177, 'd4,d5,Bf4,Nf6,e3,c5,c3,Nc6,Nd2,Bf5,Ngf3,Qb6,Qc1,e6,Be2,Be7,h3,O-O,O-O,h6,Re1,c4,Bd1,Qd8,Bc2,Bxc2,Qxc2,b5,a3,a5,e4,Qb6,exd5,exd5,Ne5,Rfe8,Nxc6,Qxc6,Re3,Bf8,Rae1,b4,axb4,axb4,Nf3,b3,Qf5,Rxe3,Rxe3,Ra2,Ne5,Qe6,Qb1,Qa6,Re1,Ne4,f3,Qf6,fxe4,Qxf4,exd5,Qd2,Nxf7,Rxb2,Nxh6+,gxh6,Qg6+,Kh8,Qf6+,Bg7', 'Re8+,Kh7,Qf5#', 'https://lichess.org/training/8vSL9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8VtVM', 'Rapid', 'frompikabu', 1815, 'ljubomauzer', 1904, 'e4,c6,d4,d5,exd5,cxd5,Nc3,Nf6,Nf3,Bg4,Be2,Nc6,h3,Bh5,O-O,e6,Bg5,Be7,Ne5,Bxe2,Nxe2,Nxe5,dxe5,Nd7,Bxe7,Qxe7,Qd4,Qg5,f4,Qe7,c4,Qc5,Qxc5,Nxc5,cxd5,exd5,Rfd1,Rd8,Nc3,d4,Nb5,d3,Nd6+,Ke7,b4,Ne6,Rxd3,Nxf4,Rf3,g5,g3,Nxh3+,Kg2,g4,Rxf7+,Ke6,Rxb7,Rhf8,Rf1,Kxe5,Nf7+,Rxf7,Rfxf7,Rd2+,Kf1,Rxa2,Rxa7,Rb2,Rab7,Ng5,Rg7,Kf5,Rb5+,Ke4,Rgxg5,Kf3,Rh5', 'Rb1#', 'https://lichess.org/training/8VtVM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8vUZP', 'Rapid', 'Giofri', 2015, 'Gairicksaha123', 2203, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Bc5,O-O,O-O,h3,d6,d3,h6,Qe2,Be6,Bxe6,fxe6,Be3,Bb6,Na4,Qe7,Nxb6,axb6,c3,d5,Bd2,Nd7,a3,Qf6,Rae1,Qg6,d4,exd4,exd5,exd5,cxd4,Rae8,Qb5,Rxe1,Rxe1', 'Rxf3,Qxd5+,Rf7', 'https://lichess.org/training/8vUZP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8VXWi', 'Rapid', 'Reza5757', 2027, 'HereFor2000ELO', 2073, 'e4,c5,Nf3,Nc6,c4,d6,d3,Bg4,Be2,g6,Nc3,Bg7,Rb1,Qa5,Qa4', 'Bxc3+,bxc3,Qxa4', 'https://lichess.org/training/8VXWi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8vYuZ', 'Rapid', 'Rustam_Mamedov', 1981, 'jit007', 2029, 'e4,c5,Nf3,e6,Nc3,Nc6,Bc4,Nf6,O-O,Be7,d4,cxd4,Nxd4,a6,a4,O-O,f4,Qb6,Be3,Bc5,Nce2,d6,Kh1,e5,fxe5,dxe5,Nxc6,Bxe3,Nxe5,Nxe4,Nd3,Bg4,Qe1,Bxe2,Qxe2', 'Ng3+,hxg3,Qh6+,Qh5,Qxh5#', 'https://lichess.org/training/8vYuZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8vyzD', 'Rapid', 'taherkml', 1653, 'mutuner1', 1612, 'e4,d6,d3,c6,Nf3,Nf6,h3,e5,Be2,Nbd7,O-O,d5,Nc3,dxe4,dxe4,Bb4,Bg5,Bxc3,bxc3,O-O,Bxf6,Qxf6,Nh2,Nc5,Bd3,Rd8,Qe2,Qg6,Qf3,Be6,Rfd1,Rd7,Qe3,b6,a4,Rad8,a5,b5', 'Qxc5,Bxh3,g3', 'https://lichess.org/training/8vyzD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8vzAl', 'Rapid', 'martjoao', 1681, 'raoofinader56', 1639, 'e4,e6,d4,Bb4+,Bd2,Nc6,Bxb4,Nxb4,Nc3,d5,e5,Ne7,a3,Nbc6,Nf3,O-O,Bd3,Nf5,Bxf5,exf5,O-O,Be6,Re1,f6,Ne2,fxe5,Nxe5,Qf6,Nxc6,bxc6,Nf4,Bf7,c3,Qd6,Qf3,Rae8,Nd3,Re4,Qxf5,Bg6,Qg5,Rf5,Qd2,Rh5,g3,Qf6,Rxe4,Bxe4,Nf4', 'Rxh2,Kxh2,Qh6+,Nh3,Qxd2', 'https://lichess.org/training/8vzAl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Vzwi', 'Rapid', 'PhilomathBret', 1861, 'Jarulf', 1933, 'd4,e6,c4,f5,Nc3,Nf6,Bg5,Be7,Bxf6,Bxf6,e4,g6,Nf3,O-O,Be2,d6,Qd2,b6,O-O-O,Bb7,Qe3,Qe8,Kb1,Na6,h4,Bg7,h5,f4,Qd3,e5,hxg6,hxg6,dxe5,dxe5,Qd7,Rf7,Qh3,Re7,Nd5,Bxd5,cxd5,Nc5,Qh7+,Kf7,Ng5+,Kf6,Qh4,Qh8,Nh7+,Kf7,d6,cxd6,Bc4+,Ke8,Rxd6,Nxe4,Nf6+,Bxf6', 'Qxh8+,Bxh8,Rxh8#', 'https://lichess.org/training/8Vzwi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8w4wR', 'Classical', 'mayta', 1989, 'pionnenvreter', 1991, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Qb6,c3,Nf6,Qd3,d5,exd5,Nxd5,Be2,e6,Na3,Bxa3,bxa3,O-O,O-O,Nxc3,Nxc6,Nxe2+,Qxe2,bxc6,Be3,Qa5,Qf3,Ba6,Rfc1,Qxa3,Qg4,Rfe8,h4,Bb5,Bh6,Qb2,Rab1,Qf6,Bg5,Qf5,Qb4,a5,Qd4,e5,Qc5,h6,Be3,Qg4,g3,Rad8,Ra1,Rd5,Qa7,Red8,Qxa5,Be2,Qe1,Bf3,Qf1,Be4,Kh2,Qf3,Qg1,h5,a3,f5,Bg5,R8d7,Re1,f4,gxf4,Rd2,Rf1,exf4,Rac1,Bf5,Qg2,Qg4,Qxg4,Bxg4,Bxf4,Ra2,Rxc6,Rf7,Bg3,Rxa3,Kg1,Kh7,Rc7', 'Rxg3+,fxg3,Rxc7', 'https://lichess.org/training/8w4wR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8WD8K', 'Blitz', 'ignorknize2', 1986, 'MrGM', 2030, 'e4,c5,b4,cxb4,a3,g6,Bb2,Nf6,e5,Nd5,e6,f6,c4,bxc3,Nxc3,Nxc3,Bxc3,dxe6,Nf3,Bg7,Bc4,O-O,O-O,Kh8,Re1,e5,Rb1,Bg4,h3,Bxf3,Qxf3,Nc6,Rxb7,Na5,Bxa5,Qxa5,Rxe7,Qxd2,Rd1,Qa5,Rdd7,Rg8,Bxg8,Rxg8,Qb7,Qe1+,Kh2,Qxf2,Qxa7,Qf4+,Kh1,Qc1+,Qg1,Qxa3,Qb1,Rc8,Rc7,Rxc7', 'Qb8+,Rc8,Qxc8+,Bf8,Qxf8#', 'https://lichess.org/training/8WD8K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8wdnl', 'Rapid', 'Rommcha', 1918, 'S_M_A_11', 1917, 'e4,e6,d4,d5,e5,Nc6,Nf3,Bb4+,Bd2,Bxd2+,Qxd2,Nge7,Bd3,O-O,c3,b6,Ng5,h6,Nh3,a5,O-O,Ba6,Bxa6,Rxa6,f4,f6,exf6,Rxf6,Nf2,Qd6,Ng4,Rf8,Ne5,Nxe5,fxe5,Rxf1+,Kxf1,Qc6,Na3,Ra8,Re1,Rf8+,Kg1,Qe8,Qe2,Qf7,Nb5,c6,Nd6,Qg6,a4,Nf5,Nxf5,Qxf5,Rf1,Qg6,Rxf8+,Kxf8,h3,Qb1+,Qf1+,Qxf1+,Kxf1,Kf7,b4,Kg6,Kf2,Kf5,Ke3,g6,bxa5,bxa5,g3,h5,Kd3,h4,gxh4', 'Kf4,h5,gxh5', 'https://lichess.org/training/8wdnl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8wf2r', 'Rapid', 'camilog28', 1770, 'tjman9119', 1737, 'e4,e5,Nf3,Nc6,d4,d6,dxe5,dxe5,Qxd8+,Nxd8,Nxe5,Nf6,f3,Be6,Bb5+,c6,Ba4,Bd6,Nd3,b5,Bb3,O-O,Bxe6,Nxe6,Be3,Nd7,Nd2,c5,c4,a5,cxb5,Rfb8,a4,Nd4,Bxd4,cxd4,Nc4,Bb4+,Nxb4,axb4,Kd2,Nc5,Rad1,Rxa4,b6,h6,Kc2', 'b3+,Kd2,Rxc4', 'https://lichess.org/training/8wf2r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8WflC', 'Classical', 'supertininho', 2137, 'TLuciano200', 2045, 'd4,Nf6,Nc3,e6,Bf4,d5,e3,Bd6,Nf3,Bxf4,exf4,O-O,Bd3,b6,O-O,Ba6,Ne2,Bxd3,Qxd3,Nbd7,Rac1,c5,c4,Rc8,cxd5,exd5,Ne5,Re8,Rfe1,c4,Qa3,Ra8,Nc3,Nf8,Nc6,Rxe1+,Rxe1,Qd7,Ne5,Qf5,Qe7,Qe6,Qb7,Re8,Qxa7,Ng6,f5,Qe7,Qxb6,Nf4,g3,Nh3+,Kg2,Ng5,Nf3,Nge4,Nxe4,Nxe4,Qc6,Rd8,a4,Qd6,Qb7,Rb8,Qa7,Rxb2,Ne5,Rxf2+,Kg1,Rxf5,g4,Rf6', 'Qa8+,Qf8,Qxf8+,Kxf8,Nd7+,Ke7,Nxf6', 'https://lichess.org/training/8WflC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8WI2i', 'Classical', 'Karpiarz39', 1837, 'adishiva', 1950, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d4,Bxd4,Nxd4,Nxd4,Bg5,O-O,Nc3,h6,Bh4,d6,Nd5,g5,Nxf6+,Qxf6,Bg3,Be6,Bxe6,Qxe6,c3,Nc6,Qh5,f5,exf5,Rxf5,Rfe1,Kg7,Qe2,Raf8,h4,Qg6,b4,gxh4,Bxh4,Kh7,Qe3,Rg8,Bg3,Ne7,Qe4,d5,Qh4,Rg5,Qh2,Nf5,Rxe5,Nxg3,Re7+,Kh8,fxg3,Rxg3,Re2,Qb6+,Kh1,Rxc3', 'Qe5+,Rg7,Qxc3', 'https://lichess.org/training/8WI2i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Wl3K', 'Rapid', 'ashilov', 2126, 'vladimirKr', 1856, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d6,Nc3,Nf6,Bg5,Be7,Qd2,Be6,f3,O-O,g4,h6,Be3,Nxd4,Bxd4,c5,Be3,d5,exd5,Nxd5,Nxd5,Bh4+,Bf2,Bxf2+,Qxf2,Bxd5,O-O-O,Qg5+,Kb1,Bc6,h4,Qf4,Be2,b6,g5,h5,Rhg1,Rad8,Rxd8,Rxd8,Rd1,Re8,a3,g6,Rf1,Kg7,Bd3,Re3,Qd2,Rxf3', 'Qxf4,Rxf4,Rxf4', 'https://lichess.org/training/8Wl3K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8wMuK', 'Rapid', 'RSdC', 1929, 'jojola57', 1687, 'b4,e5,Bb2,d5,Bxe5,f5,a3,Nc6,Bb2,d4,e3,dxe3,fxe3,Qh4+,g3,Qe7,Bc4,Nf6,Nf3,Ne4,O-O,Be6,Bb5,O-O-O,Bxc6,bxc6,d3,Rg8,Ne5,Ng5,Nxc6', 'Nh3+,Kg2,Bd5+,e4,Bxc6', 'https://lichess.org/training/8wMuK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8WN9d', 'Blitz', 'Husam__Alhasan', 1862, 'Alaa44', 1870, 'd4,d5,c4,c6,Nc3,Bf5,Bg5,f6,Bh4,Nd7,e3,Qb6,b3,e5,Rc1,exd4,exd4,Bb4,Ne2,Ne7,c5,Qa5,f3,Ng6,Bf2,Ba3,g4,Bxc1,gxf5,Bb2,Qc2,Bxc3+,Nxc3,Ne7,Rg1,O-O,h4,Nxf5,Bd3,Rae8+,Kd2,Ne7,Bxh7+,Kh8,h5,f5,Bg6,Nxg6,hxg6,b6,Rh1+,Kg8,Kc1,bxc5,dxc5,Nxc5,Bxc5,Qxc5', 'Rh8+,Kxh8,Qh2+,Kg8,Qh7#', 'https://lichess.org/training/8WN9d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8WnOF', 'Rapid', 'IceCream2020', 1680, 'raurimas', 1609, 'd4,Nf6,c4,c6,Nc3,e6,Bg5,Be7,Nf3,h6,Bd2,d5,e3,Ne4,Nxe4,dxe4,Ne5,Nd7,Be2,Nxe5,dxe5,Qc7,Bc3,O-O,O-O,Rd8,Qc2,a6,Qxe4,Bg5,Bd3,g6,Bd4,c5,Bc3,Bd7,f4', 'Bc6,fxg5,Bxe4', 'https://lichess.org/training/8WnOF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8wnpa', 'Rapid', 'popovicR', 1912, 'Draunz3r', 1970, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,Ne4,Bd2,Bxc3,bxc3,O-O,Bd3,d5,f3', 'Qh4+,g3,Nxg3,hxg3,Qxh1', 'https://lichess.org/training/8wnpa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8wns6', 'Rapid', 'aymen_fadil', 1630, 'cameroonlion', 1606, 'd4,Nf6,c4,e6,Nf3,c6,e3,d5,Nc3,Bb4,a3,Bxc3+,bxc3,Ne4,Qc2,O-O,Bd3,Nf6,O-O,Nbd7,Ng5,g6,cxd5,exd5,e4,dxe4,Nxe4,Nxe4,Bxe4,Nf6,Bd3,Qc7,Bh6', 'Ng4,g3,Nxh6', 'https://lichess.org/training/8wns6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8WnyN', 'Rapid', 'SWATMZM', 1934, 'Maoro', 1942, 'd4,f5,e3,Nf6,g3,d5,c4,e6,cxd5,exd5,Bg2,c6,a3,Bd6,Ne2,O-O,b3,Ne4,Nd2,Nd7,b4,Ndf6,O-O,Kh8,Bb2,g5,Nc3,h5,Ncxe4,fxe4,Rb1,h4,Bc1,Bg4,Qc2,Nh5,h3,Be6,g4,Nf6,b5,Bxg4,hxg4,Nxg4,Qd1,Qd7,Bh3,Bc7,Qxg4,Qd6,Qg2,Rg8,Bg4,Rg7,bxc6,bxc6,a4,Rh7,Qh3,Rf8,Nb3,Qg6,Nc5,Kg8,Bd2,Rg7,Ne6,Rf3,Bxf3,exf3,Nxg7,Qxg7,Qxf3,g4,Qg2,h3,Qh1,Qh7,Rb7', 'h2+,Kg2,Qh3#', 'https://lichess.org/training/8WnyN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8WQ5B', 'Rapid', 'Gihannz', 2246, 'DeelakaMinura', 2082, 'd4,e6,Bf4,d5,e3,c5,c3,Nc6,Nf3,Bd7,Nbd2,Nf6,Ne5,cxd4,exd4,Be7,Bd3,h6,O-O,O-O,a4,Nxe5,dxe5,Ne8,Nb3,Bg5,Bxg5,Qxg5,f4,Qe7,Rf3,f5,exf6,Nxf6,Qe2,Rae8,Bg6,Rc8,Re1,Bxa4,Nd4,Bd7,f5,Ne4,fxe6,Bxe6,Rxf8+,Rxf8,Bxe4,dxe4,Qxe4,Qf6,Nxe6', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/8WQ5B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8wr1h', 'Blitz', 'Onitnerolf', 1595, 'toms1', 1630, 'e4,e5,Nf3,d6,d4,f5,dxe5,fxe4,Ng1,d5,Nc3,c6,h4,Nd7,Bf4,Qe7,f3,exf3,Nxf3,Nc5,Bd3,Bg4,Qe2,O-O-O,O-O-O,h6,Qf2,Qf7,Be3,Nxd3+,cxd3,Bxf3,Qxf3', 'Qxf3,gxf3,d4,Bf2,dxc3', 'https://lichess.org/training/8wr1h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8wSFs', 'Blitz', 'catujo', 1799, 'Ignat_CCCP', 1882, 'e4,b6,Bc4,Bb7,Nc3,e6,a3,Nc6,h3,Qe7,f4,O-O-O,Nf3,h5,d4,f6,Be3,Nh6,Qd2,Rg8,O-O,Kb8,b4,e5,d5,Nd4,Nxd4,exd4,Bxd4,f5,e5,g5,d6,cxd6,Bxg8,Nxg8,exd6,Qf7,fxg5,Bxd6,Bf6,Nxf6,Qxd6+,Ka8,Qxf6,Qe8,Rxf5,Qe3+,Kh1', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/8wSFs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8WSOT', 'Classical', 'Daniil200513_d', 1804, 'duhlira', 1807, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Be3,Bd6,Bd3,O-O,O-O,Nc6,c3,Ne7,Nbd2,Nf5,Bg5,Be7,Re1,h6,Bf4,Nh5,Bg3,Nfxg3,fxg3,Bd6,Ne5,Nf6,Ndf3,Re8,Qd2,Ng4,Qf4,Nxe5,Nxe5,f6,Bg6,fxe5', 'Qf7+,Kh8,Qxe8+,Qxe8,Bxe8', 'https://lichess.org/training/8WSOT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8wsTK', 'Rapid', 'chidorighoul', 1632, 'RK15mahule', 1664, 'e4,c5,Bc4,Nc6,Nc3,a6,a4,e6,Qf3,Nd4,Qd3,Nf6,Nge2,Nxe2,Nxe2,d5,exd5,exd5,Ba2,c4,Qg3,Ne4,Qe5+,Be6,O-O,Bd6,Qxg7,Kd7,d3,Qh4,Ng3,Nxg3,fxg3,Qe7,Bf4,Rag8,Qd4', 'Bc5,Be3,Bxd4', 'https://lichess.org/training/8wsTK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8WSTr', 'Rapid', 'superfrer', 1703, 'Andrey1966', 1684, 'e4,c5,Nf3,d6,Nc3,e6,d4,cxd4,Nxd4,Nf6,Bg5,Be7,f4,a6,Bd3,Nbd7,Bxf6,Bxf6,Nde2,b5,a3,Bb7,O-O,Qc7,Rb1,Rc8,Kh1,O-O,Rf3,Qc5,Rh3,b4,axb4,Qxb4,e5,dxe5,Bxh7+,Kh8,fxe5,Nxe5,Be4+,Kg8,Bxb7,Qxb7,Nf4,g6,Qe1,Ng4,Ne4,Be7,Qe2,Nf6,Nxf6+,Bxf6,Qd3,Qb4,Nxg6,fxg6,Qxg6+,Bg7,Rh7,Qd4,Rh3,Qf6', 'Qh7+,Kf7,Rf3,Qxf3,gxf3', 'https://lichess.org/training/8WSTr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8WVlJ', 'Rapid', 'Ruslan_Gorenko', 1910, 'SergiiLarkin', 1818, 'c4,e5,Nc3,Nc6,e3,Nf6,Nge2,d5,cxd5,Nxd5,d4,Bb4,g3,Nxc3,bxc3,Qd5,Rg1,Ba5,Bg2,Qe6,Kf1,exd4,cxd4,Qf6,Ba3,Ne7,Qa4+,c6,Qxa5,O-O,e4,Re8,Qb4,b6,Bb2,Qh6,d5,cxd5,exd5,Bh3,Rd1,Red8,d6,Nf5,d7,Bxg2+,Kxg2,Qc6+,Kf1,Rxd7,Rxd7,Qxd7,Qg4', 'Ne3+,fxe3,Qxg4', 'https://lichess.org/training/8WVlJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8WW9I', 'Rapid', 'onlyTme', 1948, 'china353', 1799, 'd4,c6,c4,d5,cxd5,cxd5,Nc3,Bf5,Bf4,h6,h3,Nf6,Nf3,e6,Bxb8,Rxb8,e3,a6,Ne5,Bb4', 'Qa4+,Nd7,Qxb4,Nxe5,dxe5', 'https://lichess.org/training/8WW9I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8wXQF', 'Rapid', 'ali13571357', 1845, 'redwood_celtic', 1817, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bf5,Bd3,Bxd3,Qxd3,Nc6,Qb5,Qa5+,Qxa5,Nxa5,Ne5,Nf6,Nc3,Nc6,Be3,a6,Nxc6,bxc6,O-O,e6,a3,Be7,Na4,O-O,b4,a5,Nb6,Ra6,bxa5,Rxa5,Bg5,h6,Bxf6,Bxf6,Nd7,Rfa8,Nxf6+,gxf6,f3,Rxa3,Rxa3,Rxa3,Rc1,Rc3,Kf2,c5,dxc5,Rxc5,Ke3,Rc4,g4,Kh7,h4,h5,f4,d4+,Kd3,Rb4,gxh5,Kh6,Rg1,Kxh5,Rg7,Rb7,Kxd4,Kxh4,c4,Kh5,Ke4,Kh6,Rg1,Rc7,Kd4,e5+,fxe5,fxe5+,Kd5,f6,c5,e4,c6,f5,Kd6,Rc8,Kd7,Rh8', 'Rh1+,Kg7,Rxh8', 'https://lichess.org/training/8wXQF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8wXwp', 'Blitz', 'kikac43', 1523, 'KingGoD44035', 1505, 'Nf3,g6,e4,Bg7,d4,b6,c4,Bb7,Nc3,e6,Be2,Ne7,Bg5,O-O,Qd2,a6,h4,f6,Bh6,Bxh6,Qxh6,Qe8,h5,Qf7,Nh4,g5,O-O-O,Qg7,Qxg7+,Kxg7,h6+,Kf7,Bh5+,Kg8,Rd3,gxh4,Rxh4,Ng6,Rg3,Kf7,Bxg6+,hxg6,h7,Rh8,Rh6,g5,Rf3,Kg7,Rfxf6,Rxh7', 'Rhg6+,Kh8,Rf8#', 'https://lichess.org/training/8wXwp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8wXwU', 'Rapid', 'Sean777', 2174, 'fabuloua', 2187, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,d6,e4,O-O,Bd3,e5,d5,a5,h3,Na6,Be3,Nc5,Bc2,Nfd7,Qd2,f5,exf5,gxf5,Bh6,f4,Bxg7,Kxg7,Ne4,Nxe4,Bxe4,Nf6,Bc2,Qe7,b3,Re8,O-O,Kh8,Rae1,Rg8,Kh2,Nh5,Rg1,Qg7,c5,Ng3,fxg3,Qxg3+,Kh1,Bxh3,gxh3,Qxf3+,Rg2,Qxh3+,Rh2,Qf3+,Rg2,Rg3,Kg1,Rag8,Re2,Qh5,Rxg3,Rxg3+,Rg2,Qh3,cxd6,cxd6,Rxg3,Qxg3+,Qg2,Qxg2+,Kxg2,Kg7,Kf3,h6,Be4,Kf6,Kg4,b6,a4,Kf7,Kh5,Kg7,Bf3,Kh7,Be4+,Kg7,Kg4,Kf6,Bf3,Kg6,Be4+,Kf6,Bf5', 'h5+,Kf3,Kxf5', 'https://lichess.org/training/8wXwU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8X0HQ', 'Rapid', 'SytherVenom', 1909, 'Afkare', 1824, 'e4,e6,d4,d5,exd5,exd5,c4,Nf6,Nc3,Bf5,Qb3,Nc6,cxd5,Nxd4', 'Qa4+,Qd7,Qxd4', 'https://lichess.org/training/8X0HQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8X1SS', 'Rapid', 'KirfromOdessa', 1823, 'angelo-casali', 1878, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,Qxf6,Nf3,Qd8,Bd3,Be7,O-O,O-O,c3,Nd7,Qc2,Nf6,Bg5,g6,Ne5,Kg7,Qd2,Kg8,Rad1,Qd5,b3,c5,Rfe1,cxd4,cxd4,Qxd4,Bxf6,Bxf6,Re4,Qd5,Ng4,Bg7,Ne3,Qd7,Qe2,Qc7,Rc4,Qb6,Qf3,Rd8,h4,Bd7,Rc2,Bc6,Qg3,Bb5,Nc4,Bxc4,bxc4,Rd4,h5,Rad8,Rcd2,Bh6,hxg6,Bxd2,gxh7+,Kh8', 'Qe5+,f6,Qxf6#', 'https://lichess.org/training/8X1SS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8x5GO', 'Blitz', 'IM Asonchess', 2387, 'Eldrail', 2479, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nb5,d6,c4,a6,N5c3,Nf6,Be2,b6,Be3,Bb7,Qb3,Nd7,O-O,Be7,Na3,O-O,Rad1,Qc7,Nab1,Rac8,Qc2,Rfe8,a3,Qb8,b4,Qa8,f4,Nf6,Bf3,b5,cxb5,axb5,Qd3,Na7,Rd2,Red8,Rfd1,h6,Bb6,Rd7,Qe3,Bc6,h3,Rb7,Bd4,Rd8,Rc1,Rbd7,g4,e5,fxe5,dxe5,Bxe5,Nc8,Rxd7,Rxd7,Bg3,Nd6,Re1,Nc4,Qc1,Bd8,h4,Bb6+,Kh2,Qa7,g5,hxg5,hxg5,Nh7,g6,Nf6,gxf7+,Rxf7,Re2,Be3,Qc2,Qe7,Kg2,Bb6,Nd5,Nxd5,exd5,Ne3+,Rxe3,Qxe3,Qf2,Qxf2+,Bxf2,Bxf2', 'dxc6,Bd4,Bd5,Kf8,Bxf7', 'https://lichess.org/training/8x5GO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8xa11', 'Rapid', 'king-Ettore', 1881, 'Struman', 1702, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Nc3,Bb4,Bg5,O-O,Be2,h6,Bh4,Re8,f3,Be7,O-O,Bb7,Qd3,d6,Rad1,c5,Qe3,c6,e5,Nd5,Nxd5,Bxh4,Nf4,Bg5,g3,Bc8,h4,Be7,exd6,Bxd6', 'Rxd6,Qxd6,Qxe8+', 'https://lichess.org/training/8xa11');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8xbK5', 'Classical', 'KSBOST', 1801, 'MetallicIntuition', 1705, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d5,exd5,Nxd5,Ng5,Be7,Nf3,O-O,h3,Nb6,Bb3,e4,Nh2,exd3,cxd3,Bb4+,Nc3,Re8+,Be3,Ne5,d4,Nc6,O-O,Bf5,Qf3,Bg6,a3,Bxc3,bxc3,Qd7,Rad1,Be4,Qg3,Nd5,Ng4,Nxc3', 'Nf6+,Kh8,Nxd7', 'https://lichess.org/training/8xbK5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8xBPh', 'Classical', 'JLYS', 1804, 'tonibuus', 1625, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,Bc5,O-O,Nd4,d3,c6,Bc4,d5,exd5,cxd5,Bb3,b5,Nxe5,Nxb3,Re1,O-O,axb3,Qb6,Be3,d4,Ne4,Nxe4,dxe4,dxe3,fxe3,Bxe3+,Kh1,Bd4,Nd3,Re8,c3,Be5,Nb4,Bb7,Qd7,Qh6,g3,Bxg3,Re2,Rxe4,Qxb7,Rae8,Rae1,Bxe1', 'Rxe4,Rf8,Rxe1', 'https://lichess.org/training/8xBPh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8xbrz', 'Rapid', 'ExitStrip', 1806, 'decor', 1891, 'd4,d5,c4,dxc4,e4,c6,Bxc4,e6,Nc3,Nf6,Bg5,Be7,Nf3,h6,Bh4,b5,Bb3,b4,Na4,Nxe4,Bxe7,Qxe7,Qe2,Nf6,Nc5,O-O,Ne5,a5,O-O,Nd5,Ba4,Qd6,Rac1,Nb6,Bb3,Na6,Rfd1,Nd5,Bc4,Nxc5,dxc5,Qc7,g3,Bb7,f4,Qe7,Qe4,Rfd8,Bd3,f5,Qf3,Qf6,Re1,Rac8,Nc4,Ba6,Nd6,Ra8,Bxa6,Rxa6,Rc2,a4,Rce2,Nc7,Qd3,Kh8', 'Nf7+,Qxf7,Qxd8+', 'https://lichess.org/training/8xbrz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8xC00', 'Classical', 'JamesJ', 1711, 'SilvaCitizen', 1748, 'd4,Nf6,Bf4,g6,Nc3,Bg7,Nf3,O-O,e4,d6,Bc4,c6,Ng5,e6,d5,e5,Bg3,c5,Bh4,h6,Nf3,a6,O-O,b5,Be2,Qe8,a3,Nh7,Re1,f5,exf5,gxf5,Nd2,Bf6,Bxf6,Nxf6,Nf3,Kh8,Nh4,Rg8,g3,f4,Kh1,e4,Nxe4,Qxe4+,Bf3,Qh7,Qd2,fxg3,fxg3,Nbd7,Qc3,Ne5,Rxe5,dxe5,Qxe5,Qg7,d6,Bd7,Bxa8,Rxa8,Rf1,Rf8,Qe7,Rf7,Qd8+,Kh7,Qa8,Ng4,Qe4+,Kg8,Qa8+,Qf8,Qd5,Bc6,Qxc6,Rxf1+,Kg2,Qf2+,Kh3,Qxh2+,Kxg4,Qe2+,Nf3,Qe6+,Kf4,Qc4+,Qe4,Rd1,Qxc4+,bxc4,Ke5,Kf8,Ke6,Ke8,Ne5,Re1,Kd5,Re3,Nc6,Rxg3,Kxc5,Rg6', 'd7+,Kxd7,Ne5+,Ke6,Nxg6', 'https://lichess.org/training/8xC00');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Xctc', 'Blitz', 'a1278', 2199, 'crazhyouse', 2257, 'e4,e6,d4,d5,Nd2,dxe4,Nxe4,Nd7,Nf3,Ngf6,Ng3,Be7,Bd3,O-O,O-O,b6,b3,Bb7,c4,c5,Bb2,cxd4,Nxd4,Nc5,Bc2,Nce4,Nxe4,Nxe4,Qg4,Nf6,Qh3,h6,Rad1,Qc7,Rfe1,Rad8,Nb5,Qb8,Be5,Rxd1,Bxd1,Qa8,Nc7,Qd8,Bf3,Bxf3,Qxf3,Qd2,Rd1,Qxa2,Ra1,Qc2,h3,a5,Rd1,Rd8,Rxd8+,Bxd8,Nb5,Kh7,g4,Be7,Kg2,Bc5,Nc7,a4,Bxf6,gxf6,Qxf6,Kg8,Ne8,Kf8,Ng7,axb3', 'Nxe6+,Kg8,Qg7#', 'https://lichess.org/training/8Xctc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Xg4n', 'Classical', 'Anonymous-1234', 1620, 'Spatarelu', 1723, 'e4,e5,Bc4,Bc5,Qh5,Qf6,Nf3,d6,d3,h6,O-O,c6,Nc3,a5,a4,Qe7,Rd1,Nf6,Qh4,Bg4,Qg3,O-O,h3,Bxf3,Qxf3,Kh8,Ne2,d5,exd5,cxd5,Bxd5,Nxd5,Qxd5,Nc6,Ng3,Rad8,Qf3,Nd4,Qh5,Qf6,c3,Nb3,Rb1,Qxf2+,Kh2,Nxc1,Rbxc1,Bd6,Rf1,Qxb2,Nf5,Qb6,Qg4,Rg8,Nxd6,Qxd6,Rxf7,b6,Kh1,Qxd3,Rf3,Qe2,Qe6,Rge8,Qxb6,Rd1+,Rxd1,Qxd1+,Kh2,Qxa4,Qg6,Qd7', 'Rf7,Qxf7,Qxf7', 'https://lichess.org/training/8Xg4n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8XHdp', 'Rapid', 'Daniel_B', 2017, 'mohamed_farrag20', 2115, 'd4,d5,Bf4,Nc6,e3,g6,c4,dxc4,Bxc4,Bg7,Nd2,Nf6,h3,O-O,a3,Nd5,Bg3,Na5,Bd3,f5,Ngf3,Bf6,Rc1,Nc6,Qc2,Kg7,O-O,e6,b4,a6,Ne5,Nxe5,dxe5,Bh4,Bxh4,Qxh4,Nf3,Qe7,e4,fxe4,Bxe4,Rf7,Rfd1,Nf4,Rd4,c6,Qd2,Bd7,Bxc6,Bxc6,Rxf4,Rxf4,Qxf4,Rf8,Qe3,Bxf3,gxf3,Rf7,Kg2,Qh4,Qe4', 'Qg5+,Qg4,Qxc1', 'https://lichess.org/training/8XHdp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8xIbH', 'Classical', 'BananaPowered', 1767, 'muemarkm', 1748, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Nf6,Nf3,c5,e3,a6,Be2,cxd4,exd4,Bd6,O-O,O-O,Be3,Ne4,Nxd5,Bxh2+,Nxh2,Qxd5,Bf3,f5,Bf4,Nc6,Be5,Nxe5,dxe5,Qxe5,b3,b5,Re1,Bb7,Qc2,Rac8,Qb1,Rfd8,Nf1,b4,Ng3,Rd4,Nxe4,Bxe4,Bxe4,Rxe4,Rxe4,fxe4,Qe1,Rc3,Rd1,e3,f3,e2,Rd2,Qe3+,Kh2,Rc1,Qxe2,Qf4+,g3', 'Qh6+,Kg2,Qh1+,Kf2,Qg1#', 'https://lichess.org/training/8xIbH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8XjHb', 'Rapid', 'kemalbeziroglu', 1632, 'SWN-54', 1683, 'e4,c5,Nf3,e6,Be2,Nf6,d3,Nc6,Bg5,Be7,O-O,Ng4,Bxe7,Qxe7,Nfd2,Nge5,Nf3,h6,Nxe5,Nxe5,f4,Nc6,Nd2,Nd4,Nb3,Nxe2+,Qxe2,b6,Rad1,a5,Rde1,a4,Nc1,Ba6,f5,e5,Qg4,f6,Qg6+,Qf7,Qxf7+,Kxf7,h4,c4,Re3,Rac8,Rf2,c3,b3,b5,b4,Bb7,a3,d5,exd5,Bxd5,Ne2,Rhe8,Ng3,e4,d4,Re7,Ne2,Rec7,Nf4,Ba2,Rf1,Re7,d5,Re5,Rd1,Rxf5,g3,g5,hxg5,hxg5,Nh5,Kg6,g4,Rf3,Rxe4,Rc4', 'Rxc4,Bxc4,d6', 'https://lichess.org/training/8XjHb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8XKeb', 'Rapid', 'gatward', 1917, 'Vorpal_Sword11', 1935, 'd4,Nf6,Bf4,e6,e3,b6,Nf3,Bb7,Nbd2,c5,c3,Nc6,Bd3,d5,Qe2,c4,Bc2,Bd6,Bg5,h6,Bh4,b5,b3,Be7,a4,a6,O-O,b4,bxc4,bxc3,cxd5,Nxd5,Bxe7,Ncxe7,Ne4,O-O,Ra3,Rb8,Nxc3,Nb4,Rb3,Bxf3,gxf3,Ned5,Nxd5,Qxd5,Rfb1,a5,Be4,Qg5+,Kh1,f5,f4,Qd8,Bf3,Kh8,Qc4,Qe7,Rg1,Rg8,d5,Rbc8,Qb5,Rc5,Qb6,exd5,Qg6,Qd7,Bg2,d4,Bh3,dxe3,Bxf5,Rxf5,fxe3,Nd3,Rb6,Qd5+,Rg2,Nf2+,Kg1,Nh3+,Kh1,Qd1+,Rg1,Qf3+,Rg2,Rc5', 'Qxh6+,gxh6,Rxh6#', 'https://lichess.org/training/8XKeb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8xl9W', 'Rapid', 'KevinHau', 1773, 'aelond', 1800, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,O-O,a3,Bxc3,Bxc3,b6,Qc2,Bb7,f3,Nh5,e4,Qh4+,g3,Nxg3,hxg3,Qxh1,Qf2,Qh6,Ne2,d5,cxd5,exd5,e5,f6,Bd2,Qg6,Nf4,Qf5,Bh3,Qc2,e6,Qxb2,Rc1,Nc6,Nxd5,Nxd4,Nxc7,Rac8,e7,Nc2+,Kf1,Rxc7', 'Be6+,Kh8,exf8=Q#', 'https://lichess.org/training/8xl9W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8XNgl', 'Rapid', 'joshuasagun', 1767, 'Sadz1123', 1913, 'Nf3,c6,b3,d5,Bb2,Bf5,h3,Nd7,e3,Ngf6,d3,e6,Be2,Be7,Nbd2,O-O,a3,c5,g4,Bg6,Rg1,b5,h4,h6,g5,Nh7,gxh6,Bf6,Bxf6,Qxf6,hxg7,Rfc8,e4,dxe4,Nxe4,Bxe4,dxe4,Rd8,Ng5,Ne5,Qc1,Nxg5,Rxg5,Nf3+,Bxf3,Qxf3,Qe3', 'Qh1+,Ke2,Qxa1', 'https://lichess.org/training/8XNgl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8xp2t', 'Blitz', 'FM berval', 2331, 'ramzes52', 1986, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be6,f3,Be7,Qd2,Nbd7,O-O-O,b5,g4,b4,Ne2,a5,g5,Nh5,Kb1,a4,Nbc1,O-O,Ng3,Nf4,h4,a3,b3,Qc7,Qxb4,d5,Qxe7', 'Qc3,Qxa3,Rxa3', 'https://lichess.org/training/8xp2t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8xPW4', 'Rapid', 'AlexAng', 1874, 'Tuarreg', 1842, 'e4,e6,d4,d5,e5,c5,c3,cxd4,cxd4,Nc6,Nf3,Bb4+,Nc3,Qa5,Bd2,Bd7,Bb5', 'Bxc3,Bxc6,Bxd2+,Qxd2,Qxd2+', 'https://lichess.org/training/8xPW4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8xpz3', 'Blitz', 'Spady', 1706, 'Nailimixam', 1742, 'e4,e6,d4,d5,exd5,Qxd5,c3,Nf6,Nf3,h6,Qb3,Qxb3,axb3,Nc6,Bd3,Be7,O-O,O-O,Na3,a6,Bf4,Bd6,Ne5,Nh5,Nxc6,Nxf4,Be4,bxc6,Bxc6,Rb8,b4,Bb7,Bxb7,Rxb7,Nc4,Ra7,Na5,Rfa8,Nc6,Rb7,b5,Rxb5,b4,Ne2+,Kh1,Nxc3,Ra3,Nd5,Rfa1,a5,Rxa5,Raxa5,Nxa5,Bxb4,Nc6,Bc3,Ra8+,Kh7,g3,Nb6,Rf8,Kg6,Ne5+,Kf6,Rxf7+,Kg5,f4+,Kh5,Rxg7,Rb1+,Kg2,Bxd4', 'g4+,Kh4,Nf3#', 'https://lichess.org/training/8xpz3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8xqdG', 'Rapid', 'othman155', 1878, 'twistedsnake', 1782, 'd4,Nf6,Bf4,e6,Nf3,c5,e3,d5,c3,Nh5,Bd3,Nxf4,exf4,Nc6,dxc5,Bxc5,Nbd2,Qb6,Qe2,Qxb2,O-O,Qxc3,f5,Qf6,fxe6,Bxe6,Rfe1,O-O,h4,Rfe8,Ng5,h6,Nxe6,Rxe6,Qf3,Qxf3,Nxf3,Rae8,Reb1,Nb4,Rd1,Nxd3,Rxd3,Re2,Rxd5,Bxf2+,Kh1,Bg3,Rd7,g5,hxg5,hxg5,Rxb7,g4,Ng1,Kg7,Nxe2,Rxe2,Rxa7,Bf2,Ra4,g3,Rg4+,Kf6,a4,Re8,Rf1', 'Rh8+,Rh4,Rxh4#', 'https://lichess.org/training/8xqdG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8XQmK', 'Rapid', 'densuto', 2217, 'Beresta', 1876, 'e4,e5,f4,d5,exd5,c6,Nf3,cxd5,fxe5,Nc6,Bb5,Bg4,O-O', 'Qb6+,d4,Qxb5', 'https://lichess.org/training/8XQmK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8XRnr', 'Blitz', 'lexazavr', 2064, 'Khexa', 2098, 'e4,c5,Nf3,e6,b4,cxb4,d4,d5,e5,Nc6,Bd3,Bd7,a3,a6,Bd2,Rc8,axb4,Nxb4,O-O,Nxd3,cxd3,Ne7,Bb4,Nf5,Bxf8,Kxf8,g4,Nh4,Nbd2,Bb5,Nb3,h5,g5,Nxf3+,Qxf3,Qxg5+,Kh1,Qg4,Qe3,Qf5,Rac1,Ke7,Qd2,Qf3+,Kg1,Rh6,Qb4+,Kd7', 'Qd6+,Ke8,Rxc8#', 'https://lichess.org/training/8XRnr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8XSMs', 'Rapid', 'taha888', 1971, 'Yanyanhe_25', 2182, 'e4,Nc6,Nf3,e5,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Qf3,Be7,Bxc6+,Nxc6,Qxc6+,Bd7,Qf3,O-O,O-O,h6,Ne4,Nxe4,Qxe4,Qc7,d4,Bd6,dxe5,Bxe5,h3,Rab8,Nc3,Rfe8,Qd3,Bc6,Be3,Rxb2,Rab1,Reb8,Rxb2,Rxb2,Rb1,Bxc3,Rd1,Rxa2,Qxc3,Qb7,Rd8+,Kh7,Qd3+,Be4,Qb3', 'Ra1+,Kh2,Qc7+,f4,Qxd8', 'https://lichess.org/training/8XSMs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8xVr0', 'Rapid', 'MA_UV', 1606, 'peyos', 1631, 'd4,d5,Nc3,Nf6,Bg5,Nbd7,Nf3,b6,e3,h6,Bxf6,Nxf6,Bd3,e6,Ne5,a6,f4,Ne4,O-O,Nxc3,bxc3,Bd6,Qh5,Bxe5,fxe5,O-O,Rxf7,Rxf7,Qg6,Kf8,Qh7,Ke7', 'Bg6,Bd7,Bxf7', 'https://lichess.org/training/8xVr0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8xxtc', 'Blitz', 'Skysfm', 1649, 'vinay2412', 1639, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Bc4,g6,Nf3,Bg7,Ng5,e6,O-O,Qxg5,d4,Qd8,Re1,Qxd4,Qxd4,Bxd4,Bg5,Bxc3,Rad1,Bxe1', 'Rd8#', 'https://lichess.org/training/8xxtc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8XYTq', 'Classical', 'hunapuka77', 1668, 'Justo_Puerto', 1639, 'd4,e5,dxe5,Nc6,Bf4,Qe7,Nf3,Qb4+,Bd2,Qxb2,Nc3,Bb4,Rb1,Qa3,Nd5,Bxd2+,Qxd2,Qxa2,Qd1,Qa5+,Qd2,Nge7', 'Qxa5,Nxa5,Nxc7+,Kd8,Nxa8', 'https://lichess.org/training/8XYTq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Y0OK', 'Classical', 'Theo_is_thinking', 1812, 'fiisi', 1825, 'd4,g6,c4,Bg7,Nc3,d6,e4,c6,Bg5,Qa5,Nf3,Bg4,Be3,Qb6,Na4,Qa5+,Bd2,Qd8,Be3,Nf6,h3,Bc8,Bd3,Qa5+,Bd2,Qc7,O-O,O-O,Be3,Bd7,c5,dxc5,Nxc5,Bc8,e5,Nd5,Bg5,b6,Ne4,Bf5,Qd2,c5,Bh6,cxd4,Bxg7,Kxg7,g4,Bc8,Rac1,Nc6,Bb5,Bb7,Bxc6,Bxc6,Qxd4,e6,Nf6,Rad8,Ng5,Kh6,Ngxh7', 'Nxf6,Qe3+,Kxh7', 'https://lichess.org/training/8Y0OK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Y0ZF', 'Rapid', 'MaestroDragon', 1887, 'cesar1010', 1876, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Bd3,Bd7,dxc5,Bxc5,O-O,Qc7,b4,Bb6,Bf4,Nge7,a4,a6,a5,Ba7,Re1,Ng6,Bxg6,hxg6,Qd2,Ne7,Na3,Nf5,Nc2,Rc8,Ra3,Bb5,Ne3,Nxe3,Bxe3,Bxe3,Qxe3,Rh5,Nd4,Bc4,Raa1,Ke7,g4,Rh6,Qg5+,Kd7,Re3,Rch8,Nf3,d4,cxd4,Bd5,Qf4,Ke7,h4,Bxf3,Rxf3,Ke8,Rc1,Qd7,Rfc3,Kd8,Qxf7,Qxf7', 'Rc8+,Ke7,R1c7#', 'https://lichess.org/training/8Y0ZF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Y6h0', 'Rapid', 'jan1563', 1819, 'Rubal4', 1842, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,a6,h3,e6,Bb3,Qc7,d4,c4,Ba4+,b5,Bxb5+,axb5,Nxb5,Qa5+,Nc3,d5,e5,Ne4,Bd2,Nxc3,Bxc3,Qd8,O-O,Nc6,a3,f6,Re1,Be7,Bd2,O-O,c3,fxe5,Nxe5,Nxe5,Rxe5,Bd6,Re2,Rf5,g4,Rf3,Qf1,Qh4,Re3,Rxe3,Bxe3,e5,Re1,exd4,Bxd4,Bd7,Qg2,Bc6,Re3,Rf8,Kf1,h6,Ke2,Kh8,Kf1,Qg5,Ke2,Ba4,Re6,Bf4,Be3,Bxe3,Rxe3,Bc2,Qg3,Bd3+,Ke1,Qf4,Qg2,d4,cxd4,Qxd4,Qb7,Qf4,Qg2,Rb8,Qd5,Rxb2', 'Re8+,Kh7,Qg8+,Kg6,Re6+', 'https://lichess.org/training/8Y6h0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Y8Xp', 'Rapid', 'robertrovix3', 1982, 'RAIMUNDUS', 1940, 'd4,d5,c4,dxc4,Nc3,e6,e4,b5,Nxb5,c6,Nc3,Ba6,Nf3,Nf6,Ne5,Bb4,Bg5,h6,Bxf6,Qxf6,Bxc4,Bxc4,Nxc4,Nd7,O-O,Bxc3,bxc3,O-O,Qa4,Rfc8,Nd6,Nb6,Qa6,Rc7,Rab1,Rd8,e5,Qg6,f4,Nd5,Qa5,Rcd7,c4,Nxf4,g3,Ne2+,Kg2,Nxd4,Rxf7,Rxd6,exd6,Rxd6,Rbf1,Nf5,Rxa7', 'Ne3+,Kg1,Nxf1,Ra8+,Kh7', 'https://lichess.org/training/8Y8Xp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8yAMK', 'Rapid', 'DAN_1974', 1885, 'PadrePio', 2002, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,Bc5,O-O,d6,Bxc6+,bxc6,h3,a5,Re1,O-O,c3,Qe7,Bg5,h6,Bh4,g5,Bg3,Nh5,Bh2,Nf4,Bxf4,gxf4,d4,Bb6,dxe5,dxe5,Nbd2,Kh7,Kh2,Bxf2,Rf1,Bb6,Nc4,f6,Nh4,Rg8,Nxb6,cxb6,Qb3,b5,a4,f5,Nxf5,Qg5,Qf7+,Kh8,Rg1,Bxf5,Qxf5,Qxf5,exf5,Rgf8,axb5,cxb5,Rad1,Rxf5,Rd7,Kg8,Rgd1,e4,Re7,e3,Rdd7,a4,Rb7,Rd8,h4,f3,gxf3,Rxf3,Kg2,Rf2+,Kg3,Rdd2,Rxe3,Rxb2,Rxb5,Rxb5,Kxf2,a3,Re8+,Kf7,Ra8,Rb2+,Ke3,a2,Kd4,Kg6,Ra5,Rh2,Kd5,Kh5,c4,Kxh4,c5,Rf2,Ra4+,Kg3,c6,h5,c7,Rc2,Kd6,h4,Kd7,h3,c8=Q', 'Rxc8,Kxc8,h2,Rxa2,h1=Q', 'https://lichess.org/training/8yAMK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8YArs', 'Rapid', 'manas1234567', 2043, 'Sleeping_Meursault', 2021, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,d3,Bg4,Be2,e5,Bd2,Qb6,O-O,Bd6,Ng5,Bxe2,Nxe2,O-O,Rb1,Nc6,Ng3,Ne7,N5e4,Nxe4,Nxe4,f5,Ng5,Ng6,Qh5,h6,Ne6,Rf6,Nxg7,Kxg7,Qxh6+,Kf7,Qh7+,Ke6,Bg5,Rh8,Qg7,Be7', 'Bxf6,Bxf6,Qxg6', 'https://lichess.org/training/8YArs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8yCtK', 'Blitz', 'jackjones1864', 2152, 'AboSidrah', 2037, 'd4,d5,g3,c6,Bg2,e6,Nf3,Nd7,O-O,Ne7,c4,Ng6,c5,b6,cxb6,axb6,Nc3,c5,e3,f6,a3,Bd6,dxc5,bxc5,Re1,O-O,Bd2,Rb8,Rb1,Bc7,Na2,Qe7,b4,Ba6,bxc5,Nxc5,Bb4,Bd6,Qd2,Qd7,Nd4,e5,Bxc5,Bxc5,Nb3,Rxb3,Rxb3,Bc4,Rc3,Qb5,Nb4,Rd8,Rb1,Kh8,Qc2,Qd7,Na6,Bxe3,fxe3,Bxa6,Rc7,Qg4,Qd2,e4,Rbc1,Ne5,Ra7,Bd3,Rcc7,Rg8,a4,Nc4,Qf2,Qd1+,Bf1,Nxe3,Rxg7,Rxg7', 'Ra8+,Rg8,Qxf6#', 'https://lichess.org/training/8yCtK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8YD0t', 'Classical', 'gadirotbert', 1768, 'zinosa', 1661, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Bc4,Bg4,Bxf7+,Kxf7,Ng5+,Ke8,f3,h6,fxg4,hxg5,Bxg5,Qd7,h3,Nxg4,Qxg4', 'Qxg4,hxg4,Rxh1+', 'https://lichess.org/training/8YD0t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8yee0', 'Rapid', 'Renazzz', 1829, 'Debasering', 1852, 'e4,e6,d4,d5,exd5,exd5,Nc3,c6,Nf3,Bg4,Be2,Bb4,Bd2,Nf6,h3,Bh5,Ne5,O-O,Bxh5,Bxc3,Bxc3,Nxh5,O-O,Nf6,Re1,Ne4,Bb4,Re8,Qh5,Qf6,f3,Ng3,Qg4,Nf5,Re2,a5,Bc5,Na6,Nd7,Qh6', 'Rxe8+,Rxe8,Qxf5', 'https://lichess.org/training/8yee0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8yEUK', 'Classical', 'mitto1', 1678, 'giko40', 1726, 'd4,e6,Bf4,Nf6,e3,Bb4+,c3,Be7,Nf3,O-O,Nbd2,d5,Bd3,c5,O-O,b6,Ne5,Bb7,Qf3,Nbd7,Qh3,Nxe5,Bxe5,Ne4,f3,Ng5,Qg3,f6,Bf4,c4,Bxg5,fxg5,Bc2,Bd6,Qh3,Rf6,Qxh7+,Kf7,Qh5+,Ke7,e4,Bxh2+,Qxh2,Rh6,Qg3,Kd7,exd5,Bxd5,Be4,Qf6,Bxd5,exd5,Rae1,Rah8,Qg4+,Kc7,Qg3+,Kb7,Kf2,Ka8,Qe5,Qf4,Qxf4,gxf4,Re7,g5,Rg7,Rh5,Re1,Rh1,Rxh1,Rxh1,Rxg5,Rd1,Nf1,Rb1,Rxd5,Rxb2+,Kg1,Rxa2,Rf5,Rc2,d5,Rxc3,Nd2,Rc1+,Kh2,c3,Nb3,Rd1,Rxf4,Rxd5,Rc4,Rd3,Nd4,Kb7,f4,a6,f5,b5,Rb4', 'Rxd4,Rxd4,c2', 'https://lichess.org/training/8yEUK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8YjHZ', 'Rapid', 'apostatlet', 1959, 'Cyls', 2016, 'e4,c5,b4,cxb4,a3,bxa3,d4,Nf6,Bd3,e6,Nxa3,Nc6,Nb5,a6,Bf4,d6,Nf3,e5,dxe5,dxe5,Nxe5,Bb4+,c3,axb5,Rxa8,Bxc3+,Kf1,Bxe5,Bxe5,Nxe5,Bxb5+,Ke7,Qc2,Nc6,e5,Nd7,Bxc6,bxc6,Qxc6,Nxe5,Ra7+,Bd7,Qc5+,Kf6,Ra6+,Be6,Rd6,Qb8,f4,Qb1+,Kf2,Nd3+,Rxd3,Qxd3', 'Qg5#', 'https://lichess.org/training/8YjHZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8yjJq', 'Rapid', 'mcann88', 1667, 'selena-sirena', 1679, 'd4,d5,c4,e6,Nc3,c5,cxd5,cxd4,Qxd4,exd5,Nf3,Be6,Bf4,Nc6,Qd1,Bb4,e3,Bxc3+,bxc3,a6,Bd3,h6,O-O,Nf6,Rb1,b5,Nd4,Nxd4,cxd4,O-O,Qd2,Ne4,Qb4,Qd7,f3,Nf6,Rfc1,Rfc8,Qa5,Rc6,Bxb5', 'Rxc1+,Rxc1,Qxb5,Qxb5,axb5', 'https://lichess.org/training/8yjJq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8yLRV', 'Blitz', 'Dinkramat', 1756, 'KRRU', 1830, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,Nxd5,e4,Nb6,Nf3,Be7,Bd3,Bd7,e5,Nc6,a3,f6,Nh4,fxe5', 'Qh5+,Kf8,Ng6+,hxg6,Qxh8+', 'https://lichess.org/training/8yLRV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8yN3z', 'Blitz', 'drturhan', 1754, 'Kafarov', 1750, 'd4,Nf6,Bf4,g6,Nf3,Bg7,Nbd2,O-O,c3,d6,e4,Re8,Bd3,Nbd7,O-O,e5,Be3,Ng4,Bc4,Nxe3,fxe3,Bh6,Qe2,Nb6,Bb3,a5,a4,Nd7,Ne1,Rf8,Rf3,Nf6,Rg3,Nh5,Qxh5,Bxe3+,Kh1,Bxd2,Nf3,Bf4,Rg4,Bxg4,Qxg4,exd4,cxd4,Bh6,Rd1,Qc8,Qg3,Qd7,e5,dxe5,Nxe5,Qd6,Qf3,Qe7,Rf1,Kg7,Qc3,f6,Ng4,Rae8,Qh3,Qe1', 'Qxh6+,Kh8,Qxf8+,Rxf8,Rxe1', 'https://lichess.org/training/8yN3z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8yn8G', 'Rapid', 'german_13', 1864, 'bles74', 1879, 'e4,c5,Nc3,Nc6,Nf3,d6,Bc4,Bg4,d3,Nf6,O-O,a6,h3,Bxf3,Qxf3,Nd4,Qd1,e6,Re1,Be7,Be3,Nc6,d4,cxd4,Bxd4,e5,Be3,h6,Nd5,Rc8,c3,O-O,Qd2,Na5,Bb6,Qd7,Nxf6+,Bxf6,Bxf7+,Rxf7,Bxa5,Bg5,Qd5', 'Rc5,Qb3,Rxa5', 'https://lichess.org/training/8yn8G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8YNtF', 'Rapid', 'BrowniesnCoffee', 1965, 'mRroStAmI95', 1915, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,a4,Nc6,Nc3,Nf6,Bc4,e6,Be3,Be7,f4,O-O,Qf3,e5,Nxc6,bxc6,f5,Bb7,O-O-O,Qa5,g4,Nd7,h4,Nc5,g5,Nxa4,Nxa4,Qxa4,Bb3,Qa1+,Kd2,Qxb2,g6,d5,gxh7+,Kh8,Rdg1,a5,Qg4,Bf6,Bg5,Qd4+,Kc1,Qa1+,Kd2,Qd4+,Ke1,Qxe4+,Qxe4,dxe4,Bxf6,gxf6,Rg4,c5,Rhg1,a4,Ba2,e3,Rg7,a3,Ke2,Be4,Kxe3,Bxf5,Rxf7,Rxf7,Bxf7,a2', 'Rg8+,Kxh7,Rxa8', 'https://lichess.org/training/8YNtF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8yocW', 'Classical', 'Argonavtt', 1634, 'lucascatuaba', 1651, 'e4,e5,Nf3,d6,Bc4,h6,Nc3,Bg4,h3,Bxf3,Qxf3,Nf6,Nd5,Nxd5,Bxd5,f6,d3,c6,Bb3,d5,exd5,cxd5,Bxd5,Nc6,Qh5+,Kd7,Qf7+,Kc8,Qe6+,Kc7,c4,Rc8,a3,Kb8,b4', 'Nd4,Qg4,Nc2+', 'https://lichess.org/training/8yocW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8YoJa', 'Rapid', 'order523', 1928, 'DragonHeart04', 1875, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Bc4,Ng4,Bb5+,Kf8,Qf3,Nxe3,Qxe3,Qb6,Rd1,a6', 'Ne6+,fxe6,Qxb6', 'https://lichess.org/training/8YoJa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8YoPa', 'Rapid', 'zviv', 1760, 'Kubotai', 1722, 'e4,e5,Bc4,Nf6,Nc3,c6,d3,h6,a3,d5,exd5,cxd5,Bb3,Bc5,h3,Nc6,Nf3,O-O,Be3,Bb6,Bxb6,axb6,Qe2,Re8,O-O-O,d4,Ne4,b5,Kb1,b4,a4,Be6,Bxe6,fxe6,b3,Nd5,g4,Nf4,Qd2,Qa5,Kb2,b5,Ra1,bxa4,Rxa4,Qb5,Nd6,Qd5,Nxe8,Rxa4,bxa4,Qxf3,Rh2,Nxh3,Nc7,Ng5,Nb5,Qxg4,Nd6', 'Nf3,Qc1,Nxh2', 'https://lichess.org/training/8YoPa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8YopM', 'Rapid', 'jomarin2000', 1931, 'Tigris5517', 1900, 'e4,c5,Nf3,e6,b3,Nc6,Bb2,Nf6,e5,Nd5,c4,Nf4,g3,Ng6,Bg2,Qc7,O-O,Ncxe5,d4,cxd4,Nxd4,a6,Nc3,Bc5,Nce2,d6,a3,Bd7,Qd2,O-O,Rad1,Nc6,b4,Nxd4,Nxd4,Ba7,c5,dxc5,Qc3,f6,Rc1,c4,Qxc4,Qxc4,Rxc4,Ne5,Rc7,Bc6,Nxe6,Bxg2,Rxg7+,Kh8,Kxg2,Rfe8,Nc7,Kxg7,Nxa8,Rxa8,Bxe5,fxe5,Rc1,Rf8,f3,Rf7,Rc4,Rd7,a4,Bb6,Rc1,Rd2+,Kh3,Rd4,Rb1,Bd8,Kg2,Rd2+,Kh3,Be7,b5,axb5,Rxb5,Rd7,Rxe5,Kf6,Rh5,Kg6,Rb5,Bd8,Kg4,b6,f4,h6,h4,Ra7,h5+,Kg7,Rb4,Ra6,Rd4,Be7,Re4,Kf7,Kf5,Ra5+,Kg4,Rc5,Rb4,Rd5,Rc4,Bc5,Kf3,Rd3+,Ke4,Rxg3,a5,Rh3,axb6,Bxb6,Rc6,Re3+,Kf5,Rb3,Rxh6,Rb5+,Kg4,Kg7,Rg6+,Kh7,Rg5,Rb4,Rf5,Be3,Kg5,Kg7,h6+,Kh8,Kg6,Rb6+,Rf6,Rb8,f5,Bd4,Rf7,Rb6+,f6,Bxf6', 'Rf8#', 'https://lichess.org/training/8YopM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8YrrX', 'Blitz', 'OnMySelfown', 1902, 'stillanon2', 1775, 'e4,e5,c3,Nc6,d4,exd4,cxd4,d5,exd5,Qxd5,Nf3,Bg4,Be2,O-O-O,Nc3,Qd7,Qb3,Bxf3,Bxf3,b6,Qa4,Nxd4', 'Qa6+,Kb8,Qb7#', 'https://lichess.org/training/8YrrX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8ySIF', 'Blitz', 'torus4', 2202, 'juanruiz14', 2236, 'd4,d5,Bg5,c5,c4,cxd4,cxd5,Qxd5,Nf3,e5,e4,Qxe4+,Be2,Bb4+,Nc3,f6,O-O,dxc3,bxc3,Bxc3,Rc1,fxg5,Nxg5,Qf5,Rxc3,Nc6,Qc1,Nge7,Bc4,Nd4,f4,e4,Bf7+,Kf8,Qd2,Nec6,Rxc6,Nxc6', 'Qd6+,Ne7,Qd8#', 'https://lichess.org/training/8ySIF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8ytrv', 'Rapid', 'vigoregino', 1775, 'RyanM', 1806, 'e4,c6,d3,d5,exd5,cxd5,c3,Nf6,Qa4+,Nc6,Qb3,Bf5,Ne2,Bxd3,Qxb7,Qc8,Qb3,Bc4,Qc2,e6,b3,Ba6,a4,Be7,Qd1,O-O,b4,Bc4,Nd2,Ne5,Nxc4,Nxc4,Nd4,Ne4,b5,Bc5,Bxc4,Bxd4,Qxd4,Qxc4,Qxc4,dxc4,Ba3,Rfd8,Bb4,Rd3,Rc1,Rad8,f3,Nd6,Bc5,Rd7,O-O,Nf5,a5,R3d5,b6,Rxc5,Rb1,Rb7', 'bxa7,Rxa5,Rxb7', 'https://lichess.org/training/8ytrv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8YtUO', 'Rapid', 'Asadollahi2015', 1765, 'MSc2PhD', 1828, 'd4,g6,h4,Bg7,h5,gxh5,Rxh5,Nf6,Rh1,e6,Bh6,Rg8,Bxg7,Rxg7,c4,d5,e3,Ne4,Nc3,f5,Qh5+,Kd7,Nf3,c6,Ne5+,Kc7,cxd5,cxd5,Nxe4,fxe4,Rc1+,Nc6,Bb5,Bd7,Qh2,Kb6,Be2,Qe7,Rc3,a6,Nxc6,Bxc6,Kf1,Rag8,g3,Qb4', 'Rb3,Qxb3,axb3', 'https://lichess.org/training/8YtUO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Ytyz', 'Rapid', 'IURDP', 2129, 'centrena', 2141, 'd4,Nf6,Bf4,b6,Nf3,Bb7,c4,e6,e3,Ne4,a3,g5,Be5,f6,Bg3,h5,h3,Nxg3,fxg3,Bd6,Kf2,h4,g4,Bg3+,Ke2,f5,Qc2,Qf6,gxf5,exf5,Nbd2,d6,d5,Nd7,Nd4,O-O,Ne6,Rae8,Nxf8,Kxf8,Nf3,Nc5,Nd4,Qxd4,Qxf5+,Kg8', 'Qg6+,Qg7,Qxe8+', 'https://lichess.org/training/8Ytyz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8YUKx', 'Rapid', 'endong01', 2174, 'mkudzin', 2117, 'e4,d6,Nf3,Nf6,Nc3,c5,Bc4,g6,Ng5,e6,O-O,Bg7,d4,cxd4,Qxd4,O-O,Qd1,Nc6,Bf4,e5,Nxf7,Rxf7,Bxf7+,Kxf7,Bg5,Be6,f4,Qb6+,Kh1,Qxb2,Nd5,Bxd5,exd5,Nd4,Rb1,Qxc2,Rxb7+,Kg8,Qe1,Qe2,Qb1,Ne4,Rxg7+,Kxg7,Qb7+,Kg8,Qxa8+,Kg7,Qxa7+,Kg8,Rb1,Nf2+,Kg1,Nh3+,Kh1', 'Nf2+,Kg1,Nf3+,gxf3,Nh3+,Kh1,Qxf3#', 'https://lichess.org/training/8YUKx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8YvRb', 'Rapid', 'mrmildside', 1608, 'kapsul111', 1600, 'c4,d5,cxd5,Qxd5,Nc3,Qd8,Nf3,Bf5,e4,Bg6,Be2,Nd7,d4,c6,O-O,Ngf6,Qd3,e6,Bg5,Be7,Nd2,O-O,g4,h6,Bh4,c5,d5,exd5,Nxd5,Nxd5,Bxe7,Qxe7,Qxd5,h5,gxh5,Nf6,Qg5,Bxe4,h6,g6', 'Nxe4,Qxe4,Qxf6', 'https://lichess.org/training/8YvRb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8YWak', 'Rapid', 'mikesch007', 1784, 'mark190', 1783, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Be3,Qb6,Na4,Qa5+,c3,cxd4,b4,Nxb4,cxb4,Bxb4+,Bd2,Bxd2+,Nxd2,b5,Nb2,Qc3,Nd3,b4,Rc1,Qa3,Qb3,Qxb3,Nxb3,a5,Nxd4,Ba6,Kf2,Bc4,Ra1,Ra6,Nb2,Nb6,Be2,Kd7,Rhc1,Rc8,f5,exf5,Nxf5,g6,Nd4,Ke7,Ke3,f5,exf6+,Kxf6,Rf1+,Kg7,Ne6+,Kh6,Rfe1,Bxe2,Rxe2,Nc4+,Nxc4', 'Rxe6+,Ne5,Rxe5+', 'https://lichess.org/training/8YWak');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8YWc1', 'Rapid', 'RRADOO', 1633, 'jagga007', 1731, 'e4,e5,Bc4,c6,f4,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Nxd7,fxe5,Nxe5,Nf3,Bd6,O-O,Nf6,d4,Nxf3+,Qxf3,O-O,Bg5,Be7,Nc3,h6,Bh4,Re8,Rae1,Qb6,Nxd5', 'Qxd4+,Bf2,Qxd5,Qxd5,Nxd5', 'https://lichess.org/training/8YWc1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8YWgw', 'Rapid', 'Ockes71', 1858, 'Tanael', 1643, 'd4,Nf6,Bf4,d6,Nc3,Bf5,e3,e6,Bd3,Bg6,Nf3,Nc6,e4,Qd7,Qe2,Nb4,O-O,Nxd3,cxd3,Be7,e5,dxe5,Nxe5,Qxd4,Nxg6,hxg6,Bxc7,Bd6,Bxd6,Qxd6,f4,O-O-O,Rad1,g5,Qf2,Ng4,Qxa7,Qd4+,Qxd4,Rxd4,Rf3,Nxh2,Rh3,Rxh3,gxh3,Nf3+,Kf2,Rxf4,Ne2,Rf6,Kg3,Ne5,d4,Nc4', 'Rc1,b5,b3,Kd7,bxc4', 'https://lichess.org/training/8YWgw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8yXmn', 'Rapid', 'Jm116', 1652, 'syhnero', 1694, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,Bc5,d3,O-O,O-O,Re8,Be3,Nd4,Bxd4,exd4,Ne2,c6,Ba4,d5,e5,Ng4,Nfxd4,Nxe5,a3,Qb6,c3,Bg4,b4,Bxe2,bxc5', 'Bxd1,cxb6,Bxa4', 'https://lichess.org/training/8yXmn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8YZWX', 'Rapid', 'BossStephen', 1999, 'karpovtsev_pavel', 1997, 'e4,g6,d4,Bg7,h3,d6,Nf3,Nf6,Nc3,O-O,Be3,c6,a4,Qa5,Qd2,d5,e5,Ne8,Bd3,f6,Bh6,fxe5,Bxg7,Kxg7,Nxe5,Nd7,O-O,Nxe5,dxe5,Bf5,f4,Nc7,g4,Bxd3,Qxd3,Qc5+,Kh2,Ne6,f5,Ng5,fxg6,hxg6,Rxf8,Rxf8,Rf1,Rxf1,Qxf1,Qe3,Qg2,Qxe5+,Kh1,Qe1+,Kh2,e5,Qe2,Qxe2+,Nxe2,c5,b3,e4,Nc3,d4,Ne2,d3,cxd3,exd3,Nc3,Kf6,Kg3,Ke5,Nd1,a6,a5,Kd4,h4,Ne4+,Kf4,Nc3,Nf2,d2,h5,d1=Q', 'Nxd1,gxh5,gxh5', 'https://lichess.org/training/8YZWX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8z1F0', 'Rapid', 'paullb', 1738, 'Nedlio', 1693, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nxd4,Bb4,Nxc6,dxc6,Qxd8+,Kxd8,Bd2,Be6,O-O-O,Ke7,e5,Nd5', 'Nxd5+,cxd5,Bxb4+', 'https://lichess.org/training/8z1F0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8z577', 'Blitz', 'aktajha', 2095, 'cerniera', 1943, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,O-O,e4,d6,Be2,e5,O-O,Nc6,d5,Ne7,Ne1,Nd7,Be3,f5,f3,f4,Bf2,g5,Qb3,b6,Nd3,Nf6,a4,a5,c5,b5,Nxb5,g4,Rac1,Ng6,cxd6,cxd6,Rc6,gxf3,Bxf3,Ne8,Bb6,Qg5,Nxd6,Nxd6,Rxd6,Bg4,Nc5,Bxf3,Qxf3,Nh4,Qh3,f3,g3,f2+,Kh1,Qe3,Rxf2,Qe1+,Qf1', 'Qxf1+,Rxf1,Rxf1#', 'https://lichess.org/training/8z577');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Z7PM', 'Classical', 'Dragonege2011', 1747, 'Rossfresser', 1783, 'd4,Nf6,c4,e6,Nf3,d5,g3,dxc4,Bg2,Nbd7,O-O,Bd6,Qc2,Nb6,e4,Be7,Ne5,O-O,Rd1,Bd7,Nxd7,Qxd7,Be3,c6,Nd2,Ng4,Nxc4,Nxc4,Qxc4,Nxe3,fxe3,Bg5,Rd3,Qc7,d5,Qb6,Re1,cxd5,exd5,Rac8,Qg4,Bf6,dxe6,Qxe6,Qxe6,fxe6,Bh3,Rc6,Rd7,Rb6,b3,Bg5,e4,e5,Bf1,h6,Kg2,Rbf6,h4,Rf2+,Kg1,Be3', 'Bc4+,Kh7,Rxe3', 'https://lichess.org/training/8Z7PM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8ZCf3', 'Rapid', 'la_camilla736', 1872, 'aRocco', 1853, 'd4,d5,Nf3,Nc6,g3,Bf5,c3,Be4,Bg2,e6,Nbd2,Bxf3,Bxf3,Be7,e3,Nf6,O-O,h6,b3,Qd7,Bb2,b5,c4,bxc4,bxc4,Rb8,Rb1,dxc4,Nxc4,O-O,Ne5,Nxe5,dxe5,Qxd1,Rfxd1,Nh7,Rd7,Bd8,Be4,Ng5,Bc2,c5,Rxa7,Bb6,Ra4,c4,Rxc4', 'Nf3+,Kg2,Nd2', 'https://lichess.org/training/8ZCf3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8zcqY', 'Rapid', 'FlorianV4', 1942, 'HorstimanN', 1964, 'd4,f5,c4,d6,Nc3,Nf6,e3,g6,Qb3,Bg7,Nf3,c6,Be2,O-O,O-O,Qe8,Bd3,e5,dxe5,dxe5,Ng5,h6,c5+,Kh8,Nh3,Qe7,e4,Be6,Qb4,f4,Kh1,g5,Ng1,g4,Nge2,h5,f3,h4,fxg4,Nxg4,Ng1,Ne3,Bxe3,fxe3,Nf3,h3,Ne2,Na6,Bxa6,bxa6,Qc3,hxg2+,Kxg2,Bg4,Qxe3,Kh7,Ng3,Bh6,Qc3,Rf4,Qxe5', 'Bxf3+,Rxf3,Qxe5', 'https://lichess.org/training/8zcqY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8zdZ1', 'Rapid', 'art323', 1752, 'Mahir674309', 1780, 'b3,e5,Bb2,Nc6,e3,d5,Bb5,f6,Nf3,Bd7,Bxc6,Bxc6,d3,Nh6,Nbd2,Bb4,Qe2,Nf5,O-O-O,O-O,g4,Nd6,Rhg1,a5,h4,Nb5,g5,Qd6,gxf6,Rxf6,Nxe5,Nc3,Qg4,Nxa2+,Kb1,Nc3+,Bxc3,Bxc3', 'Qxg7#', 'https://lichess.org/training/8zdZ1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Zdzn', 'Blitz', 'Karpovmex', 2057, 'herguz', 1955, 'd4,Nf6,Nc3,e6,Bg5,Bb4,e4,Bxc3+,bxc3,h6,Bxf6,Qxf6,f4,Qxf4,Bd3,d5,exd5,exd5,Qe2+,Kd8,Nf3,Re8,Ne5,f6,Rf1,Qxh2', 'Nf7+,Kd7,Bf5+,Kc6,Qxe8+', 'https://lichess.org/training/8Zdzn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8ze7j', 'Blitz', 'LetGoMrBlueSky', 1688, 'NikitaK', 1704, 'e4,e5,Nc3,Nc6,f4,exf4,Nf3,d6,Bc4,h6,d4,Bg4,O-O,Qd7,Bb5,a6,Ba4,Be7,d5,b5,dxc6,Qxc6,Bb3,Rb8,Bd5,Qb6+,Kh1,g5,e5,Bxf3,Qxf3,dxe5,Bc6+,Kf8,Be4,Nf6,Nd5,g4,Nxf6,Bxf6,Qxg4,Rg8,Qh3,Qd4,Bd3,e4,Rxf4,Re8,Be3,Qxb2,Bc5+,Kg7,Raf1,exd3,Qxd3,Re6,Bd4,Bxd4', 'Rxf7+,Kh8,Rh7#', 'https://lichess.org/training/8ze7j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8zEq5', 'Blitz', 'Guzman70', 2236, 'Vikingo2020', 2285, 'e4,c5,Nc3,Nc6,Bb5,Nd4,Nf3,a6,Bd3,e6,O-O,Ne7,Nxd4,cxd4,Ne2,Nc6,c3,dxc3,bxc3,Be7,Bc2,O-O,d4,d6,f4,b5,Ng3,Bb7,f5,Rc8,Qg4,Kh8,Nh5,Rg8,fxe6,fxe6,Rf7,Bf8,Bg5,Qb6,Be3,Rc7,Raf1,Ne5,dxe5,Qxe3+,R7f2,Rxc3,Bb3,Rxb3,axb3,dxe5,Qxe6,Qxe4', 'Qxg8+,Kxg8,Rxf8#', 'https://lichess.org/training/8zEq5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8ZFmG', 'Classical', 'Kupa53', 1911, 'domhabs', 1798, 'd4,Nf6,f3,d5,Nc3,g6,Bg5,Bg7,Qd2,Nc6,Rd1,h6,Bh4,g5,Bf2,Nd7,Nxd5,O-O,c3,e5,h4,exd4,cxd4,Nb6,Nxc7,Qxc7,hxg5,Nc4,Qc3,Nxd4,Bxd4', 'Qg3+,Bf2,Bxc3+', 'https://lichess.org/training/8ZFmG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8zhy6', 'Rapid', 'Hassan28', 1715, 'Med_Said', 1718, 'e4,c5,Nf3,d5,exd5,Qxd5,Be2,Bf5,Nc3,Qd7,O-O,Nc6,h3,h6,Nh4,Bh7,Bg4,e6,d3,g5,Nf3,f5,Bh5+,Kd8,Re1,Nf6,Ne5,Nxe5,Rxe5,Nxh5,Qxh5,Kc7,Be3,Bd6,Rxc5+,Bxc5,Bxc5,b6,Ba3,Rag8,Qe2,g4,hxg4,Rxg4', 'Qe5+,Kb7,Qxh8', 'https://lichess.org/training/8zhy6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8zi9A', 'Rapid', 'UsevBenTingis', 1835, 'viellieb_92', 1832, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,Nc6,Bf4,Bb4,cxd5,exd5,Ne5,Nxe5,Bxe5,Ne4', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/8zi9A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8ZJx2', 'Blitz', 'alex2111', 1818, 'maratkostrov', 1797, 'd4,d5,c4,e6,Nf3,Nf6,g3,c5,cxd5,Nxd5,Bg2,Nc6,O-O,b6,Nc3,Nxc3,bxc3,Bb7,Ne5,Rc8,Qa4,Qc7,Bf4,Bd6,d5,exd5,Bxd5,O-O,Nxc6,Bxf4,gxf4,Bxc6,Bxc6,Qxc6,Qxa7,Qg6+,Kh1,Qe4+,f3,Qxe2,Rae1,Qb5,a4,Qc4,Rg1,Qxc3,Ref1,Ra8,Qxb6,Rxa4,Rg3,Rxf4,Qd6,Rd4', 'Rxg7+,Kxg7,Rg1+,Rg4,Rxg4+,Kh8,Qxf8#', 'https://lichess.org/training/8ZJx2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8ZkPU', 'Rapid', 'Falado_Galado', 2032, 'krnov', 1883, 'd4,d5,c4,e5,Nf3,e4,Nfd2,c6,e3,Nf6,Nc3,Be7,Qb3,O-O,f3,exf3,Nxf3,dxc4,Bxc4,b5,Bxf7+,Rxf7,Ne5,Qe8,O-O,Nbd7,Nxc6,Bb7,Ne5,Nxe5,dxe5,Ng4,Rf5,Bc5,Nd5,Bxd5,Qxd5,Bxe3+,Kf1,Nxh2+,Ke2,Bb6', 'Rxf7,Qxf7,Qxa8+', 'https://lichess.org/training/8ZkPU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8zLkI', 'Rapid', 'Gradich', 1671, 'AhmedchessB', 1604, 'Nf3,Nf6,c4,e6,d4,d5,e3,b6,Bd2,Ba6,b3,dxc4,bxc4,Nbd7,Nc3,c5,Qa4,Bb7,Be2,cxd4,exd4,Bd6,Bg5,O-O,O-O,h6,Bh4,Qc7,Bg3,Bxg3,hxg3,Rac8,Nb5,Bc6,Qxa7,Bxb5,Qxc7,Rxc7,cxb5,Rfc8,Bd3,Rc3,Be2,Ng4,Nd2,Ndf6,f3,Ne3,Rf2,Rc2,Nb3,Nh5,Bd3,R2c3,g4,Nf4,Be2,Kh7,Bf1,Kg6,Re1,Kg5,g3,Nxf1,Kxf1,Nd3,Nd2,Nxf2,Kxf2,Rc2,Re2,Ra8', 'Ne4+,Kg6,Rxc2', 'https://lichess.org/training/8zLkI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8ZM63', 'Blitz', 'hhoppi', 1685, 'AlexiosOfSparta', 1702, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bf4,Bd6,Qd2,Ne4,Qe3,O-O,Bd3,Re8,O-O,Ng3,Qd2,Nxf1,Kxf1,Bg4,Ne5,Bxe5,dxe5,Nc6,Nc3,Nxe5,Bxe5,Rxe5,Qf4,Qg5,Qb4,Rae8,h3,Re1+,Rxe1', 'Rxe1+,Kxe1,Qc1+,Nd1,Qxd1#', 'https://lichess.org/training/8ZM63');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 6;
-    }
-
-}
\ No newline at end of file
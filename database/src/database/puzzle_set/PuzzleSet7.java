@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet7 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8ZmO4', 'Rapid', 'CAMBIADOR', 2172, 'piBorg', 1920, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,Bg5,Be7,e3,Nbd7,Rc1,h6,Bh4,O-O,Bd3,dxc4,Bxc4,e5,dxe5,Ng4,Bg3,Qb6,Qb3,Nxe3,fxe3,Qxe3+,Ne2,Qe4,Bxf7+,Kh8,e6,Nc5,Rxc5,Bxc5,Nh4,Qb1+,Qd1,Bb4+,Kf2,Bc5+,Kf3,Rxf7+,exf7,Bg4+,Kxg4,Qe4+,Nf4,h5+,Kxh5,g6+,Nhxg6+,Kg7,f8=Q+,Rxf8,Nxf8', 'Qf5+,Kh4,Be7#', 'https://lichess.org/training/8ZmO4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8Zrzi', 'Rapid', 'Alcamisev', 1722, 'vadim-sp', 1679, 'c4,Nf6,d4,d6,g3,g6,Bg2,Bg7,Nf3,O-O,O-O,Nbd7,Nc3,e5,dxe5,Nxe5,Nxe5,dxe5,Nd5,Bf5,Nxf6+,Qxf6,Bxb7,Rab8,Bd5,Bh3,Re1,c6,Be4,Rbd8,Qa4,Rd4,f3,Rfd8,Be3,R4d7,Qxc6,Qe7,Qa4,h5,Red1,h4,Rxd7,Rxd7,Rd1,hxg3,Rxd7,gxh2+,Kxh2,Bxd7,Qxa7,Qh4+,Kg2,Bh3+,Kh1,Qe1+,Bg1,Qxe2,Qf2,Qxc4,b3,Qc1,Kh2,Qh6,Qg3', 'Bf1+,Qh4,Qxh4#', 'https://lichess.org/training/8Zrzi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8ZUE9', 'Blitz', 'aydinke', 1801, 'WillyJoe', 1874, 'd4,e6,Bf4,a6,Nf3,b5,e4,Bb7,Nbd2,c5,c4,b4,d5,h6,d6,Nf6,e5,Nh7,Bd3,g5,Bg3,h5,h3,g4,hxg4,hxg4,Nh4,Ng5,Qxg4,Bxg2,O-O-O,Bxh1,Rxh1,Nc6,Bf4,Nd4,Bxg5,Qa5,Ne4,Bg7,Nxc5,Qxc5,Be7,Qxe5,Nf3,Nxf3', 'Rxh8+,Bxh8,Qg8#', 'https://lichess.org/training/8ZUE9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('8ZyHH', 'Blitz', 'VranPlanina', 1906, 'Diegofelep', 1553, 'e4,g6,d4,d6,Nc3,Bg7,Nf3,Nc6,Bc4,e5,Bxf7+,Kxf7,Ng5+,Ke8,dxe5,Nxe5,Nd5,Nf6,O-O,h6,Nf3,Bg4,c4,Bxf3,gxf3,Nxc4,Qa4+,c6,Nxf6+,Bxf6,Qxc4,Qe7,b4,g5,b5,h5,Rb1,g4,bxc6,gxf3,cxb7', 'Qg7+,Bg5,Qxg5+,Kh1,Qg2#', 'https://lichess.org/training/8ZyHH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('90j7U', 'Rapid', 'CameRAMan123', 2093, 'massimoprisco', 2017, 'd4,d5,Bf4,Nc6,e3,a6,c3,Nf6,Bd3,e6,Nd2,Be7,h3,O-O,Ngf3,Nd7,e4,dxe4,Nxe4,Nf6,Qe2,Nxe4,Qxe4,g6,O-O-O,e5,Bh6,Bf5,Qe2,Bxd3,Rxd3,exd4,Nxd4,Bg5+,Bxg5,Qxg5+,Kb1,Nxd4,Rxd4,Qxg2,Rhd1,Qxh3,Rd7,Rac8,Re7,Qf5+,Ka1,h5,a3,Qb5,Qf3,Qb3,Rg1,Qb5,Qf6,Qc6,Rxg6+,fxg6', 'Qg7#', 'https://lichess.org/training/90j7U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('90ltf', 'Rapid', 'Schogi77', 1686, 'P-H-Pearse', 1763, 'e4,c5,Nf3,Nc6,d3,e5,Nc3,d6,h3,Be6,Be2,Nge7,O-O,Ng6,Be3,Be7,Qd2,O-O,Nd5,Nd4,Nxe7+,Qxe7,Ng5,f6,Nxe6,Nxe6,Bg4,b5,c3,Kh8,Bxe6,Qxe6,Rae1,f5,exf5,Rxf5,b3,Rh5,Kh2,e4,dxe4,Qe5+,f4,Qxe4,Bxc5,Qf5,Be3,d5,Qe2,Rh6,Qxb5,Nh4,Qe2,Rg6,g4,Qe4,Qf2,h5,Rg1', 'Nf3+,Qxf3,Qxf3,Rgf1,Qe4', 'https://lichess.org/training/90ltf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('90QDj', 'Blitz', 'joey64', 1741, 'Rahulragzz', 1804, 'e4,d5,exd5,Nf6,d4,Nxd5,Nf3,Bg4,Be2,c6,O-O,e6,c4,Nf6,Nc3,Be7,Bf4,Bd6,Qd2,Qc7,Bxd6,Qxd6,Rad1,Nbd7,Rfe1,O-O,a3,Rad8,b4,Qc7,Qe3,Bf5,b5,Ng4,Qc1,Rfe8,h3,Ngf6,a4,e5,d5,e4,Nd4,Bg6,dxc6,bxc6,Nxc6,Rc8,Nd5,Nxd5,cxd5,Qb6,a5,Qc7,Qb2,e3,f3,Qg3,b6,axb6,axb6,Qf2+,Kh1,Bf5,b7,Rc7,b8=Q,Nxb8,Nxb8,Rcc8,Nc6,Qg3,d6,Bxh3,Bf1,Bd7,Ne5,Re6,Nxd7', 'Rh6+,Kg1,Qh2#', 'https://lichess.org/training/90QDj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('90qty', 'Blitz', 'professor_zur', 2145, 'oldgor64', 2153, 'e4,e6,c4,d5,cxd5,exd5,Qb3,dxe4,Bc4,Qe7,d3,Nc6,Nc3,exd3+,Be3,d2+,Kf1,Be6,Nf3,Bxc4+,Qxc4,O-O-O,Bxd2,Nf6,a3,Qd7,Bf4,Qf5,Bg3,Bc5,Rc1,Rhe8,Na4,Na5,Qxc5', 'Qd3+,Kg1,Qd1+,Rxd1,Rxd1+,Ne1,Rdxe1#', 'https://lichess.org/training/90qty');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('90rIc', 'Rapid', 'elpacorepiola', 1614, 'ThiagoMarques1981', 1765, 'Nf3,b6,d4,Bb7,e3,e6,c4,Nf6,Nc3,Bb4,Bd2,Bxc3,Bxc3,O-O,Be2,d5,O-O,c5,dxc5,bxc5,Bxf6,Qxf6,Rb1,Nc6,b3,Rad8,Qc1,d4,exd4,Nxd4,Nxd4,Rxd4,Qc3,Rfd8,Rbd1', 'Rxd1,Qxf6,Rxf1+', 'https://lichess.org/training/90rIc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('90ss9', 'Blitz', 'flaggernoob', 2535, 'FM besztok', 2468, 'e4,c5,Nf3,Nc6,c3,d5,exd5,Qxd5,d4,Bg4,Be2,e6,O-O,Nf6,Be3,cxd4,Nxd4,Bxe2,Qxe2,Be7,Rd1,Rd8,Nd2,O-O,N2f3,Nxd4,Bxd4,a6', 'Bxf6,Bxf6,Rxd5', 'https://lichess.org/training/90ss9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('90tNW', 'Blitz', 'CHESSSURF', 2213, 'CM lisyender', 2317, 'd4,Nf6,Nf3,g6,g3,Bg7,Bg2,O-O,O-O,d6,Nbd2,Nc6,c4,e5,dxe5,Nxe5,Nxe5,dxe5,e4,Be6,Qe2,c6,b3,Re8,Bb2,Nd7,h3,a5,Rfd1,Qb6,Nf3,h6,Rac1,Rad8,Ba3,Nc5,Rxd8,Rxd8,Qe3,Nd7,Qxb6,Nxb6,Kf1,a4,Ke2,axb3,axb3,Ra8,Ra1,f6,Ne1,Bf8,Bb2,Rxa1,Bxa1,Nd7,Nd3,Kf7,Bc3,Nc5,Nxc5,Bxc5,f4,b5,cxb5,cxb5,fxe5,fxe5,b4,Bc4+,Kf3,Bd6,h4,h5,Bh3,Bb3,Bd7,Bc4,Bc6,Kf6,Bd5', 'Bxd5,exd5,Kf5', 'https://lichess.org/training/90tNW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('90ugN', 'Rapid', 'haluknkutlu', 1675, 'MiscaTungtoy', 1734, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d5,exd5,Nxd5,Bxd5,Qxd5,O-O,Bg4,Nbd2,O-O-O,Nc4,e4,Ne3,Bxf3,Nxd5', 'Bxd1,Rxd1,Rxd5', 'https://lichess.org/training/90ugN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('90uZw', 'Rapid', 'Asperhard', 1817, 'clevereduardo', 1926, 'e4,Nf6,e5,Nd5,Bc4,Nb6,Bb3,c5,a3,Nc6,Nc3,Nxe5,Qh5,d5,Qxe5,e6,Qe2,Bd7,d4,c4,Ba2,Bd6,Nf3,O-O,h3,a6,O-O,Rc8,Ne5,Be8,Qg4,f5,Qg5,Be7,Qg3,Bf6,Ne2,Qc7,c3,Bxe5,dxe5,Nd7,Nf4,Bf7,Ne2,Nc5,Bh6,Bg6,Nf4,gxh6,Nxg6,hxg6,Qxg6+,Qg7,Qg3,Kh7,Rae1,Qf7,Qh4,Rg8,Re3,f4,Rf3,Rcf8,Bb1+,Ne4,Re1,Qf5,g3,Rg5,Rxf4', 'Qxf4,Qxf4,Rxf4', 'https://lichess.org/training/90uZw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('90wyZ', 'Rapid', 'DelDongo', 1929, 'MasterDebator', 1981, 'e4,c6,d4,d5,e5,Bf5,f4,e6,Be3,Qb6,b3,c5,Nf3,Nc6,Nc3,cxd4,Nxd4,Nxd4,Bxd4,Qc7,Bb5+,Kd8,O-O,Ne7,Be2,h6,Nb5,Qxc2,Nd6,Qxd1,Rfxd1,Bg6,Nxb7+,Kc7,Na5,Nf5,Rac1+,Kb8,Nc6+,Kb7,Na5+,Kb8,Ba6,Ba3,Nc6+,Kc7,Rc3,Nxd4,Nxd4+,Kb6,Rc6+,Ka5,b4+,Bxb4,Nb3+,Ka4,Bb7,Rab8,Ra6+,Kb5,Nd4+,Kc4,Rc6+,Bc5,Ba6+,Kb4,a3+,Ka5,Rxc5+,Kxa6,Rc6+,Rb6,Rc7,Rhb8,Rdc1,Rb1,Rc6+,R8b6,Rxb6+,Kxb6,Rxb1+,Bxb1,Kf2,Kc5,Ke3,Be4,Nb3+,Kc4,Na5+,Kb5,Nb7,Bxg2,Nd6+,Ka4,Nxf7,Kxa3,Nd6,Kb3,f5,Bh3', 'f6,gxf6,exf6', 'https://lichess.org/training/90wyZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('90xoH', 'Blitz', 'FM Mr_Saw', 2451, 'FM UnholyCrusade', 2487, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,a3,e5,Nf5,d5,Bg5,d4,Bxf6,gxf6,Nb1,Bxf5,exf5,Qd5,Qd3,Qa5+,Kd1,Bh6,b4,Qc7,Be2,Nc6,Bf3,O-O-O,Nd2,Bxd2,Kxd2,a5,b5,Ne7,b6,Qc3+,Qxc3+,dxc3+,Kxc3,Nxf5', 'Bg4,Kb8,Bxf5', 'https://lichess.org/training/90xoH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('91e9m', 'Rapid', 'tommctrouble', 1720, 'garciayhernandez', 1670, 'e4,e5,Nf3,Nc6,d4,Nxd4,Nxd4,exd4,Qxd4,d6,Nc3,Bd7,Be2,Nf6,O-O,Be7,f3,O-O,Bg5,Nh5,Bxe7,Qxe7,Nd5,Qd8,f4,c6,Bxh5,cxd5,exd5,Rc8,Rac1,Qh4,Qd1,Rc5,c4,g6,g3', 'Qxh5,Qxh5,gxh5', 'https://lichess.org/training/91e9m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('91EB1', 'Blitz', 'karimi27', 1621, 'makoran', 1723, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Nxe4,Bxf7+,Kxf7,Nxe4,d5,Ng3,Bg4,d3,Nd4,Nxe5+,Kg8,Nxg4,Qe7+,Be3,Re8,c3,Nc6,h3,h5,Nh2,g5,Nf5,Qe5,Qf3,a6,O-O-O,Ba3,Bxg5', 'Qxc3+,Kb1,Qxb2#', 'https://lichess.org/training/91EB1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('91JZs', 'Blitz', 'mohmedabdelmohsn1w', 2072, 'PlanMaestro', 2069, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,Ng4,Bf4,e5,Be2,exd4,Bxg4,dxc3,bxc3,Nc6,Bxc8,Rxc8,O-O,Be7,Qg4,O-O,Rad1,Qa5,Rd3,Ne5,Bxe5,dxe5,Rg3,g6,h4,Rxc3,h5,Rxg3,fxg3,Qd2,hxg6,hxg6,Rf3,Bc5+,Kh2,Kg7,Qh4,Qd7,Qf6+,Kh7,g4,Qd4', 'Rh3+,Kg8,Rh8#', 'https://lichess.org/training/91JZs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('91PIf', 'Rapid', 'Iplaygambit', 2016, 'Lorista', 2085, 'e4,c5,d4,cxd4,c3,d3,Bxd3,Nc6,Nf3,g6,O-O,Bg7,Be3,d6,Qd2,Nf6,Bh6,O-O,Bxg7,Kxg7,Nd4,Ne5,f4,Nxd3,Qxd3,Qb6,Nd2,Be6,f5,Bd7,Kh1,Ng4,Nc4,Qc7,h3,b5,hxg4,bxc4,Qf3,f6,Rae1,Rh8,Kg1,Raf8,Kf2,Qb6,Re2,h5,Rh1', 'hxg4,Qxg4,Rxh1', 'https://lichess.org/training/91PIf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('91PZq', 'Blitz', 'Luiferipo', 1926, 'alfil1975', 1935, 'd4,Nf6,Nf3,d5,g3,Nc6,Bg2,Bf5,O-O,e6,Nbd2,Bd6,c4,h5,h4,Ne4,e3,f6,c5,Be7,a3,g5,b4,a6,Bb2,gxh4,Nxh4,Bg4,Ndf3,f5,Qd3,Ng5,Nh2,Ne4,f3,Nxg3,fxg4,Bxh4,Rf3,hxg4,Nxg4,Qg5,Ne5,Nxe5,dxe5,O-O-O,c6,Rhg8,cxb7+,Kxb7,b5,a5,Qc2,Ne4,Bd4,Qg4,Rc1,Rg7,Qc6+,Kb8,Qa6,Qxf3,Ba7+,Ka8,Bb6+,Kb8,Qa7+,Kc8', 'Rxc7+,Rxc7,Qxc7#', 'https://lichess.org/training/91PZq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('91q7g', 'Rapid', 'tuskerking', 2185, 'DarkMistress', 2204, 'e4,b6,Nc3,Bb7,f4,Nc6,Nf3,e6,d4,Nf6,e5,Nd5,Nxd5,exd5,Be3,Be7,Bd3,a5,c3,d6,Qc2,h6,a3,Ba6,Bxa6,Rxa6,Qa4,b5,Qxb5,Rb6,Qxd5,dxe5,Qxd8+,Nxd8,Rb1,e4,Nd2,f5,d5,Rg6,g3,c6,c4,Rd6,Bc5,Rd7,dxc6,Nxc6,Bxe7,Kxe7,Ke2,Nd4+,Ke3,Nc2+,Ke2,e3,Nf3,Rhd8,Rhd1,Rxd1,Rxd1,Rb8,Rb1,Nxa3,Ra1,Rxb2+,Kxe3', 'Nc2+,Kd3,Nxa1', 'https://lichess.org/training/91q7g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('91t5C', 'Rapid', 'paololucca', 1928, 'Islamrajab', 1947, 'd4,Nf6,c4,e5,Nc3,exd4,Qxd4,Nc6,Qe3+,Qe7,Nf3,a6,g3,Nb4,Qxe7+,Bxe7,Kd2,Ng4,h3,Nxf2,Rh2,Bc5,a3,Nc6,b4,Bd4,Nxd4,Nxd4,Rxf2,Nb3+,Kc2,Nxa1+,Kb2,O-O,Kxa1,d6,Nd5,c6,Ne7+,Kh8,Nxc8,Raxc8,Bf4,d5,e3,Rfe8,h4,Re4,Bd3,Re7,Bf5,Rce8,cxd5,cxd5,Rd2,d4,Rxd4,g6,Bh3,h5,Bg2,Rc8,Kb2,Kg8,Rd3,Rc4,Bxb7,Rxb7,Rd8+,Kg7,Be5+,f6,Bd4,Kf7,Rh8,Ke6,Rh6,Kf5,Kb3,Rc1,Ka4,Rg1', 'e4+,Kxe4,Bxg1', 'https://lichess.org/training/91t5C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('91vh5', 'Rapid', 'AMSHEN', 1986, 'Madina_1', 2101, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,O-O,c3,d5,exd5,Nxd5,Nxe5,Nxe5,Rxe5,c6,Bxd5,cxd5,d4,Bd6,Re1,Qh4,g3,Qh3,Qf3,Bf5,Qg2,Qh5,f3,Rae8,Rxe8,Rxe8,Bd2,Bd3,g4,Qh4,Qf2,Bxh2+,Qxh2,Re1+,Bxe1,Qxe1+,Kg2,Bf1+,Kh1,Be2+,Qg1', 'Bxf3+,Kh2,Qh4#', 'https://lichess.org/training/91vh5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('91Ykp', 'Rapid', 'Dantes-Edmond', 1501, 'dselva', 1577, 'e4,b6,d4,Bb7,Nc3,Nf6,f3,a6,Bc4,b5,Bb3,e6,Bg5,d5,e5,h6,Bh4,g5,Bf2,Nh5,g3,Qd7,Qd2,a5,a3,b4,Nd1,bxa3,bxa3,Nc6,Ne3,Nb4,O-O-O,Nc6,f4,Bxa3+,Kb1,Nb4,fxg5,hxg5,Ng4,Kf8,Qxg5,Qe7,Nf6,Nxf6', 'exf6,Qd6,Qg7+,Ke8,Qxh8+', 'https://lichess.org/training/91Ykp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('91ySz', 'Classical', 'aliteker', 1739, 'Tichala', 1683, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,O-O,O-O,Nbd2,a6,Bb3,d6,Re1,Bg4,h3,Bh5,Nf1,Nd4,g4,Nxg4,Nxd4,Bxd4,hxg4,Qh4,gxh5', 'Qxf2+,Kh1,Qg1#', 'https://lichess.org/training/91ySz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('924i8', 'Rapid', 'Valok1312', 1826, 'feredy2020', 1945, 'e4,e5,d4,exd4,e5,d6,Nf3,dxe5,Bc4,Bb4+,c3,dxc3,bxc3,Qxd1+,Kxd1,Bd6,Ba3,h6,Re1,Nc6,Bxd6,cxd6,Na3,Bg4,Nb5,Bxf3+,gxf3,Kd7,Bxf7,Rf8,Bd5,a6,Na3,Nf6,Bc4,b5,Be2,Nd5,Kc2,Nf4,Bf1,Na5,Rad1,Rc8,Nb1,Rhe8,a4,b4,Bxa6,Rc7,Bb5+,Nc6,cxb4,Ke6,Bxc6,Rxc6+,Kb3,d5,b5,Rc4,Rc1', 'Nd3,Rxc4,dxc4+,Kxc4,Nxe1', 'https://lichess.org/training/924i8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('927If', 'Blitz', 'BIOSS', 2366, 'WGM Merlotty', 2495, 'f4,d5,Nf3,Nf6,d3,g6,c3,Bg7,Qc2,O-O,e4,dxe4,dxe4,Bg4,Be2,c5,Be3,b6,Nbd2,Nc6,O-O-O,Qc7,g3,Rac8,Kb1,Qb7,h3,Bxf3,Nxf3,b5,Bxc5,b4,c4,Na5,Bd4,Nxe4,Bxg7,Kxg7,Rhg1,b3,axb3,Nxb3,Ne5,Nbc5,Bf3,Rb8,Bxe4,Qxe4,Qxe4,Nxe4,Rd7,Rb3,Rxe7,Rfb8,Rxf7+,Kg8,Rg2,Nc3+,Ka1', 'Ra3+,bxa3,Rb1#', 'https://lichess.org/training/927If');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9293K', 'Rapid', 'Oakenlix', 1665, 'leongainford', 1684, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Bg5,Be7,Nc3,Nbd7,Nf5,O-O,Nd5', 'Nxd5,Nxe7+,Nxe7', 'https://lichess.org/training/9293K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('92Dae', 'Rapid', 'silent_avenger', 1729, 'defense4ever', 1745, 'e4,c5,Bc4,e6,d3,Nc6,Nf3,g6,Bf4,Bg7,c3,Nf6,Nbd2,Nh5,Bg5,Qb6,b3,Bxc3,Rc1,Bg7,O-O,O-O,Re1,d5,exd5,exd5,Bxd5,Nb4,Be3,Nxd5,Bxc5,Qb5,Bxf8,Bxf8,Ne4,Nhf4,g3,Nxd3,Nc3,Nxc3,Rxc3,Nxe1,Nxe1,Bb4,Qd8+,Kg7,Rxc8', 'Rxc8,Qxc8,Bxe1', 'https://lichess.org/training/92Dae');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('92Fbq', 'Rapid', 'imverylow', 1626, 'Dav3Nard0', 1846, 'e4,d6,Nc3,Nf6,Bc4,c6,d3,Bg4,f3,Bh5,Bg5,Nbd7,g4,Bg6,f4,h6,Bxf6,gxf6,f5,Bh7,d4,e5,Nf3,Qb6,b3,O-O-O,Na4,Qb4+,c3,Qa5,b4,Qc7,b5,h5,gxh5,Bh6,dxe5,Nxe5,Nxe5,fxe5,Rb1,cxb5,Bxb5,a6,Nb6+,Kb8,Be2,Qxc3+,Kf1,Qh3+,Ke1,Be3,Qd3,Rhg8,Rb3,Rg3,Nd5', 'Bf2+,Kd1,Rxd3+', 'https://lichess.org/training/92Fbq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('92fsq', 'Rapid', 'gmseagull', 1911, 'nicO_dre', 1706, 'e4,c5,c4,d6,Nc3,a6,g3,Nc6,Bg2,e5,h3,Nf6,Nge2,Be6,O-O,Be7,Kh2,O-O,f4,Qb6,b3,Rad8,Nd5,Bxd5,exd5,Na5,fxe5,dxe5,Bb2,Bd6,Rxf6,gxf6,Ng1,Kh8,Qh5,Rg8,Be4,Rg7,Rf1,Be7,Nf3,Rdg8,Nxe5,Qc7,Nxf7+,Rxf7,Qxf7', 'Qxg3+,Kh1,Qxh3#', 'https://lichess.org/training/92fsq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('92jTt', 'Blitz', 'bunyamind', 1660, 'ELIAS4316', 1693, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Nxd4,Qxd4,Qf6,e5,Qc6,Qf4,f6,Nc3,Bb4,Bxg8,Bxc3+,bxc3,Qxc3+,Kd1,Qxa1,exf6,Qxf6,Qxf6,gxf6,Bb3,d6,Re1+,Kd8,Bb2,Rf8,Bc1,h5,Bh6,Rh8,Bg7,Rh7,Bxf6+,Kd7,Ba4+,c6,Bb3,d5,c4,Rf7,Bh4,Rf4,Bg3,Rd4+,Kc2,dxc4,Kc3,c5', 'Ba4+,b5,Bxb5+,Kd8,Re8#', 'https://lichess.org/training/92jTt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('92kOU', 'Classical', 'clementd51', 1943, 'Jrmota', 1986, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,d5,O-O,Ne4,Bb3,Bc5,Nbd2,Bg4,h3,Bh5,g4,Bg6,Nxe4,dxe4,Bg5,f6,exf6,gxf6,Bh4,exf3,Re1+,Ne5', 'Rxe5+,fxe5,Bxd8', 'https://lichess.org/training/92kOU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('92uLp', 'Rapid', 'FabioJales_AS', 1946, 'Jfilho_AS', 1750, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,Nf3,a6,e3,dxc4,Bxc4,b5,Bd3,Bb7,O-O,O-O,Qc2,Bxf3,gxf3,g6,Bh6,Re8,Ne2,Nbd7,Rac1,Rc8,Qc6,Nb6,e4,Nh5,Be3,Bg5,f4,Bh6,b3,Qd6,Qxd6,cxd6,Kg2,f5,Kf3,fxe4+,Bxe4,d5,Bd3,Nf6,Rxc8,Nxc8,Rc1,Nd6,Rc6,Bf8,Rxa6,b4,Bd2,Nf7,Rb6,Ra8,Bb1,Ne4,Bxb4', 'Bxb4,Rxb4,Nd2+,Ke3,Nxb1', 'https://lichess.org/training/92uLp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('92ydr', 'Blitz', 'FM Hadza_3', 2355, 'GM ledinavelosipede', 2637, 'e4,e6,Nf3,d5,e5,c5,g3,Nc6,Bg2,Qc7,Qe2,a5,a4,b6,O-O,Ba6,d3,Nge7,h4,Ng6,Re1,Be7,h5,Nf8,Bf4,h6,c4,dxc4,dxc4,O-O-O,Nc3,Nd4,Nxd4,cxd4,Nb5,Qb8,Red1,Bc5,b4,Bxb4,Rxd4,Rxd4,Nxd4,Bb7,Bxb7+,Qxb7,Nb5,Nd7,Rd1,Rd8,Rd6,Kb8,Be3,Bxd6,Nxd6,Qc6,Nxf7,Rf8,Nd6,Nxe5,Bf4,Rxf4,Qxe5,Rf8', 'Nb5+,Kc8,Na7+', 'https://lichess.org/training/92ydr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('92yPC', 'Rapid', 'gauloises274', 2038, 'spez2017', 1829, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Bc5,e3,Nc6,a3,a5,Nbd2,Ngxe5,Ne4,Nxf3+,Qxf3,d6,Nxc5,dxc5,Bd2,O-O,O-O-O,Ne5,Qe4,Ng4,Bc3', 'Qxd1+,Kxd1,Nxf2+,Kc1,Nxe4', 'https://lichess.org/training/92yPC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('931zf', 'Blitz', 'Rawr15', 1626, 'mehran4836', 1653, 'e4,c5,c3,d5,exd5,Qxd5,d4,e5,Qh5,Qe4+,Ne2,exd4,f3,Qe6,cxd4,cxd4,Qb5+,Nc6,Bf4,a6,Qb3,Qf5,g4,Qa5+,Bd2,Qd8,Na3,Nf6,Nf4,Bd6,O-O-O,O-O,Nc2,Qc7,Nd5,Nxd5,Qxd5,Be6,Qe4,Rfe8,Bd3,g6,Rhe1,Bxa2,Qxe8+,Rxe8,Rxe8+,Kg7,Be4,Bb3,h4,Ne5,h5,d3', 'h6+,Kf6,g5#', 'https://lichess.org/training/931zf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('934ni', 'Classical', 'sgn1976', 1752, 'ConanTheBarbarian', 1771, 'e4,d6,d4,Nf6,Nc3,c6,Nf3,Bg4,Be2,e6,O-O,Qa5,Bd2,Qb6,Bc1,Be7,h3,Bh5,b3,Qb4,Bb2,Qb6,e5,Nfd7,exd6,Bxd6,Ne4,Be7,Ng3,Bg6,c4,O-O,Bd3,f5,Qe2,c5,d5,e5,Nxe5,Nxe5,Qxe5,Bf6,Qe6+', 'Qxe6,dxe6,Bxb2', 'https://lichess.org/training/934ni');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9360H', 'Rapid', 'Rijahas', 1822, 'Frank14o2', 1795, 'e4,d6,b3,Nf6,Nc3,Nbd7,Nf3,e5,Be2,c6,d4,Qc7,Bb2,exd4,Nxd4,Ne5,Nf5,g6,Ne3,Be6,h3,Be7,Qd2,O-O-O,f4,Ned7,O-O-O,Nc5,Bf3,Nfd7,Kb1,Rhe8,f5,gxf5,exf5,Bg5,Qf2,Bxe3,Qxe3,Bxf5,Qf4,Bg6,Bg4,Ne4,Nxe4,Rxe4,Qg3,d5,Qf2,Kb8,Bf3,Re7,Bg4,Ne5,Rde1,Nxg4,hxg4,Rde8,Rxe7,Rxe7,Qf6,Re6', 'Qh8+,Qc8,Be5+,Rxe5,Qxe5+', 'https://lichess.org/training/9360H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('93Ce1', 'Rapid', 'snowfed', 1970, 'lechwsus', 1903, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Ngf6,Nc3,e6,d4,cxd4,Qxd4,Be7,e5,dxe5,Nxe5,Nxe5,Qxe5,O-O,Bg5,h6,Bh4,Nd7,Bxe7,Qxe7,Qb5,Nf6,Rad1,a6,Qe5,Rad8,Ne4,Nxe4,Qxe4,Rd7,Rxd7,Qxd7,c3,Rd8,h3,Qd5,Qxd5,Rxd5,Rb1,Rd2,a4,Kf8,Kf1,Ke7,c4,Kd6,Ke1,Rd4,Rd1,Rxd1+,Kxd1,Kc5,b3,Kb4,Kc2,b6,Kd3,Kxb3', 'a5,bxa5,c5,Kb4,c6,Kc5,c7', 'https://lichess.org/training/93Ce1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('93EtG', 'Rapid', 'Sheeshi123', 2571, 'AASP1124', 2525, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,h3,O-O,Bg5,c5,d5,h6,Be3,a6,Bd3,Nbd7,Nge2,e5,dxe6,fxe6,Qd2,Ne5,Rd1,Qb6,Bxh6', 'Nxd3+,Qxd3,Bxh6', 'https://lichess.org/training/93EtG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('93o7o', 'Classical', 'Deoxik', 1805, 'sherifosman111', 1842, 'd4,e6,c4,Nf6,Nc3,c5,e3,cxd4,exd4,Be7,Nf3,O-O,Bd3,b6,Qc2,Bb7,Ng5,g6,O-O,Nc6,Nf3,Nb4,Qe2,Nxd3,Qxd3,Kg7,h4,Ng4,d5,Bxh4', 'Qd4+,Bf6,Qxg4', 'https://lichess.org/training/93o7o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('93Q3h', 'Rapid', 'alassio', 1994, 'seifelkaetb', 1916, 'd4,d5,c4,dxc4,Nc3,Nf6,e4,e5,d5,Bb4,Bg5,Nbd7,Bxc4,O-O,Nf3,h6,Bh4,a6,O-O,Bxc3,bxc3,b5,Bd3,g5,Bg3,Re8,c4,Ng4,cxb5,Nc5,a4,axb5,axb5', 'Rxa1,Qxa1,Nxd3', 'https://lichess.org/training/93Q3h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('93ReQ', 'Rapid', 'JayFanstone', 1965, 'Adnali', 2051, 'e4,Nf6,Nc3,e5,Nf3,Nc6,Bc4,Bc5,O-O,O-O,Bb3,a5,a4,Nd4,Nxe5,Nxb3,cxb3,d5,d4,Bb4,Bg5,Bxc3,bxc3,dxe4,Re1,Bf5,f3,exf3,Qxf3,Bg6,Ng4,Qd6,Nxf6+,gxf6,Bxf6,Rfe8,Be5,Qb6,Qf4,c5,Qh6,f6,dxc5,Qxb3,Bxf6,Qf7,Qg5,Rf8,Rf1,Ra6,Bd4,h6,Qxh6', 'Qxf1+,Rxf1,Rxf1+,Kxf1,Bd3+,Ke1,Rxh6', 'https://lichess.org/training/93ReQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('942lx', 'Rapid', 'julencatur', 1931, 'AmaiHachimitsu', 1944, 'd4,Nf6,c4,e6,a3,c6,Nc3,Qa5,b4', 'Bxb4,axb4,Qxa1', 'https://lichess.org/training/942lx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9483i', 'Rapid', 'MaleSoprano', 1889, 'short93', 1890, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,Bg5,Bb4,Qe2+,Be6,Qb5+,Nc6,Nf3,O-O,Be2,a6,Qa4,b5,Qb3,a5,a4,Bxc3+,Qxc3,Nb4,Bxb5,Bg4,Ne5,Bf5,Nd3,Nxd3+,Bxd3,Re8+,Kd2', 'Ne4+,Bxe4,Qxg5+', 'https://lichess.org/training/9483i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('94FI3', 'Rapid', 'nrrbar', 1912, 'Adrianbill', 1714, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,e5,Nd5,c4,Nb6,Bd3,Bb4+,Bd2,Bxd2+,Nxd2,Qe7,O-O,O-O,Qh5,h6,Qf5,g6,Qf4,d6,exd6,cxd6,Qxh6,Qf6,b3,Bf5,Bxf5,Qxf5,Nf3,Nd7,Rad1,d5,cxd5,cxd5,Rfe1,Nf6,Re5,Qc2,Rde1,Ng4,Qf4', 'Qxf2+,Kh1,Nxe5', 'https://lichess.org/training/94FI3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('94FM4', 'Blitz', 'GM Buhmann', 2672, 'Jenlen3001', 2536, 'd4,e6,Nf3,f5,c4,Nf6,e3,b6,Be2,Bb7,O-O,Be7,b3,O-O,Bb2,Ne4,Nc3,Nxc3,Bxc3,Bf6,Qc2,a5,Rfd1,Qe7,d5,Bxc3,Qxc3,Na6,Qd4,d6,dxe6,Nc5,Qh4,Qxe6,Ng5,Qg6,Bf3,h6,Bxb7,Nxb7,Nf3,Rae8,Rd4,Nc5,Rad1,Ne6,Rd5,f4,e4,Qxe4,h3,Qg6,a3,Nc5,b4,axb4,axb4,Ne4,Rc1,Rf5,Nd4,f3,Qg4,Qxg4,hxg4,Rxd5,cxd5,fxg2,Rxc7,Nf6,Nf5,Nxd5,Rxg7+,Kh8,Rd7,Nf4,Ne3,Ra8,Nxg2,Ra1+,Kh2,Nxg2,Kxg2,Rd1,Rb7,Rd4,Rxb6,Rxg4+,Kf3,Rg6,Ke4', 'd5+,Kxd5,Rxb6', 'https://lichess.org/training/94FM4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('94fwf', 'Classical', 'kondratei', 1846, 'Romerofernandez', 1789, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,f3,g6,Nc3,Bg7,Bb5+,Bd7,Qd3,a6,Ba4,Bxa4,Nxa4,O-O,O-O,Nc6,Be3,Qc7,c3,Rab8,b4,b5,Nb2,Rfc8,Rfc1,Ne5,Qd2,Nc4,Nxc4,Qxc4,Bh6,Ne8,a4,bxa4,Rxa4,Rb6,Ne2', 'Bxh6,Qxh6,Qxe2', 'https://lichess.org/training/94fwf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('94HFN', 'Rapid', 'Hugoes', 1627, 'Bhiry', 1738, 'Nf3,e6,e4,c6,d4,d5,exd5,exd5,Be2,Bg4,h3,Bh5,g4,Bg6,Ne5,Be4,f3,Bg6,h4,f6,Nxg6,hxg6,Bd3,Ne7,Qe2,Kf7,Bf4,Nd7,Nc3,Qa5,Bd6,Re8,O-O,Nc8', 'Bxg6+,Kxg6,Qxe8+', 'https://lichess.org/training/94HFN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('94Llf', 'Rapid', 'MattHouilles', 1660, 'Kalastaja', 1645, 'e4,e5,Nf3,d6,Nc3,Be6,Bb5+,c6,Ba4,b5,Bb3,Bxb3,axb3,Be7,O-O,h6,Re1,Nf6,h3,O-O,d3,Nh7,Be3,f5,exf5,Rxf5,Bxa7,Nd7,Be3,Rxa1,Qxa1,d5,Bd2,Ng5,Nh4', 'Nxh3+,gxh3,Bxh4', 'https://lichess.org/training/94Llf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('94M6X', 'Rapid', 'Olek333', 1846, 'mahyir35', 1621, 'd4,d5,e3,Nf6,Bd3,e6,Nf3,c5,Bb5+,Bd7,Bxd7+,Qxd7,dxc5,Bxc5,O-O,O-O,b3,Qc7,Bb2,Nbd7,Nbd2,e5,h3,e4,Nd4,Bd6,Rc1,Be5,c4,dxc4,Rxc4,Qa5,a4,Nh5,Nxe4,f5,Qxh5,fxe4,Rfc1', 'Bh2+,Kxh2,Qxh5', 'https://lichess.org/training/94M6X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('94OJB', 'Rapid', 'FlavioLandes', 1720, 'highlyfavored', 1721, 'e4,e5,Nf3,Nc6,Bc4,f5,exf5,e4,Ng1,Nf6,d3,d5,Bb3,Bxf5,dxe4,Nxe4,Qxd5,Qf6,Nf3,Rd8,Qc4,Ne5,Nxe5,Bc5,Qf7+,Qxf7,Nxf7', 'Bxf2+,Ke2,Bg4+,Kf1,Rd1#', 'https://lichess.org/training/94OJB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('94wdS', 'Blitz', 'Dwib', 1831, 'PaulAlex', 1849, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Nxe4,Re1,Nc5,Bb3,Nxb3,axb3,d6,d4,Bg4,dxe5,Nxe5,Nbd2,Be7,h3,Nxf3+,Nxf3,Bh5,Qd3,O-O,Nd4,Bg6,Qc3,Re8,Be3,Bf6,Qc4,d5,Qb4,Bxd4,Bxd4,Bxc2,Qxb7,Rb8,Qxa6,Bxb3,Qd3,Rxe1+,Rxe1,Bc4,Qg3,f6,Re6,Kf7,Rc6,Rc8,Qg4,Qe8,Qh5+,Kg8,Qxe8+,Rxe8,Rxc7,Re1+,Kh2,Rd1,Bc5,Rb1,Ba3,Rf1,Kg3,Rd1,f3,Rd2,h4,Bf1,Rd7,Rxg2+,Kf4,Bc4,Kf5,Rh2', 'Rd8+,Kf7,Rf8#', 'https://lichess.org/training/94wdS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('94Wdx', 'Blitz', 'EPThompson', 2508, 'FM Ryan-Rhys', 2520, 'e4,c5,Nf3,d6,c3,Nf6,Be2,b6,d3,Bb7,Nbd2,Nbd7,O-O,g6,Re1,Bg7,Bf1,Ne5,d4,Nxf3+,Nxf3,cxd4,Bb5+,Nd7,cxd4,O-O,h4,a6,Bd3,h5,Bg5,Rc8,Qd2,Re8,Rad1,Qc7,Bh6,Bh8,Qg5,e5,d5,Nc5,Bb1,a5,Qg3,a4,Be3,Bf6,Rc1,Qe7,Ng5,Rc7,Rc3,Rec8,Rec1,Kg7,b4,axb3,axb3,Nxb3,Rxc7,Rxc7,Re1,Nc5,Kh2,Ba6,Nf3,Bd3,Bxd3,Nxd3,Rb1,Rb7,Bg5,Bxg5,Nxg5,Nf4,Qf3,b5,g3,f6,gxf4,fxg5,fxg5,b4,Kg3,Qf7,Qxf7+,Kxf7,Kf3,Ke7,Ke3,Kd8,Kd3,Rf7,Ke3,Rb7,Kd3,Kc8,Kc4,Rf7,Rb2,Rf4,Re2,Rxh4,Kxb4,Rg4,Kb5,Kd7,f3,Rxg5,Ra2,Rg1', 'Ra7+,Kc8,Kc6', 'https://lichess.org/training/94Wdx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('94y0c', 'Blitz', 'Tebrong', 1745, 'Cholegote', 1705, 'e4,e5,d4,exd4,Nf3,Nc6,Nxd4,Nxd4,Qxd4,Nf6,Bd3,b6,O-O,Bc5,Kh1,Bxd4,c3,Bc5,b4,Be7,Bb2,O-O,Nd2,d5,e5,Nd7,Nf3,c5,b5,Re8,Rae1,Bb7,a4,d4,cxd4,cxd4,Bxd4,Bxf3,gxf3,Nc5,Bxc5,bxc5,Be4,Rc8,f4,c4,Re3,c3,Rh3,h6,Rg1,g6,Rxh6,c2,Bxg6,fxg6,Rgxg6+,Kf7', 'e6+,Kf8,Rh8#', 'https://lichess.org/training/94y0c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('94zDR', 'Rapid', 'Mayton_Cruz', 1650, 'yairh', 1653, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Bd3,Qxd4,Nf3,Qd8,O-O,Bxd3,cxd3,Nf6,Be3,e6,Ne4,Nd5,Bd4,Nd7,Rc1,Be7,Bxg7,Rg8,Be5,f6,Nd6+,Bxd6,Bxd6,e5,d4,e4,Re1,f5,Ne5,N7f6,Qb3,Qxd6', 'Qxb7,Qc7,Qxa8+', 'https://lichess.org/training/94zDR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9552I', 'Classical', 'JONATHA_MATA', 1703, 'TheMySelf', 1648, 'd4,d5,c4,Nf6,e3,Bd7,Nf3,e6,Nc3,Bb4,Bd2,dxc4,Bxc4,b5,Bb3,a6,a3,Ba5,Ne5,Nc6,Nxd7,Qxd7,O-O,O-O,Bc2,Ne7,b4,Bb6,Ne4,Nxe4,Bxe4,c6,Rc1,Nd5,Qg4', 'f5,Qf3,fxe4', 'https://lichess.org/training/9552I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9568T', 'Classical', 'cakeWalk85', 1700, 'temirlan1979', 1703, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,O-O,Nf6,Re1,Be7,Nc3,O-O,Nd5,Nxd5,exd5,Nxd4,Bxd7,Qxd7,Qxd4,Bf6,Qd3,Rfe8,Rxe8+,Rxe8,Be3,h6,c3,Re5,Bxa7,b6,f4,Re8,a4,Ra8,Qa6,Qc8,Qxc8+,Rxc8,Re1', 'Ra8,Bxb6,cxb6', 'https://lichess.org/training/9568T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('95Ao4', 'Rapid', 'JHoWnzor', 1706, 'arex', 1636, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Na5,Nxe5,Nxc4,Nxc4,Be7,O-O,O-O,Nc3,c6,Re1,Re8,e5,Nd5,Nxd5,cxd5,Ne3,d4,Nc4,b5,Nd6,Bxd6,exd6,Bb7,b3,Qf6,Bb2,Qxd6,Qg4,Qd5,f3,Re6,Rxe6,Qxe6,Qxd4,f6,Qc3,Re8,Qa5,a6,Bd4,Qe2,Qc7,Bxf3,gxf3,Qxf3,Rf1', 'Qg4+,Qg3,Qxd4+', 'https://lichess.org/training/95Ao4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('95hxL', 'Classical', 'Madonas_nefiltrets', 1944, 'ElSimao', 2054, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e6,a3,d5,exd5,Nxd5,Bb5,Bd7,Nxd5,Nxd4,Bxd7+,Qxd7,Nc3,O-O-O,O-O,Qc6,Qg4,Nxc2,Rb1,Nxa3,bxa3,Qxc3,Be3,Qa5,Qc4+,Kb8,Rb5,Qa6,Rfb1,Be7', 'Rxb7+,Qxb7,Rxb7+', 'https://lichess.org/training/95hxL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('95IQb', 'Rapid', 'aurelius91', 1914, 'stanley546', 1878, 'd4,Nf6,e3,e6,Nf3,c5,dxc5,Bxc5,a3,O-O,Be2,b6,O-O,Bb7,b4,Be7,Bb2,d5,Nbd2,Nbd7,c4,Rc8,cxd5,Nxd5,Rc1,Bf6,Rxc8,Qxc8,Bxf6,N7xf6,Nc4,Nc3,Nd6,Nxd1,Nxc8,Nxe3,Ne7+,Kh8,fxe3,Rd8,b5,h6,Nc6,Ra8,a4,a6,Nfe5,axb5,Bxb5,Kg8,Rd1,Nd5,Rxd5,exd5,g3,Re8,Ng4,f5,Nce5,Re6,Bd7,Re7,Bxf5,h5,Ng6,Re8,N4e5,Ra8,Bd7,Kh7,Kf2,Ra5,h4,Ra8,Bc6', 'Bxc6,Nxc6,Kxg6', 'https://lichess.org/training/95IQb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('95JSR', 'Blitz', 'dragonneau', 2219, 'bishopping', 1727, 'c4,g6,Nc3,Bg7,d4,Nf6,Nf3,c6,Bg5,O-O,e3,d6,Be2,Bg4,O-O,Bxf3,Bxf3,Nbd7,Re1,d5,cxd5,Nxd5,Nxd5,cxd5,Qb3,Nb6,Rac1,Qd7,Rc5,Rac8,Rec1,e6,Be2,Rxc5,Rxc5,Na4,Rc2,Nb6,Bb5,Qd6,Bf4,e5,dxe5,Bxe5,Bxe5,Qxe5,Rd2,Rc8,Qd1,a6,Be2,Rc5,g3,g5,Bf3,Nc4,Rxd5,Rxd5,Qxd5,Qc7,Qxg5+,Kh8,Qf5,Nd2,Be4', 'Qc1+,Kg2,Qf1#', 'https://lichess.org/training/95JSR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('95Q5Y', 'Rapid', 'pasaia', 1708, 'Jacobmaliepaard', 1641, 'e4,e6,d4,d6,Nf3,Nf6,Bg5,Be7,c4,c5,d5,exd5,cxd5,Bg4,Bd3,Nbd7,Nc3,Ne5,Bxf6,Bxf6,Bb5+,Bd7,Qe2,a6,Bxd7+,Qxd7,Nxe5,Bxe5,O-O,O-O,g3,Rfe8,Rab1,b5,Nd1,Qe7,Ne3,Qg5', 'f4,Qg6,fxe5', 'https://lichess.org/training/95Q5Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('95RO1', 'Blitz', 'Mr-Brain', 2018, 'Klogg', 2021, 'd4,Nf6,Nf3,d5,Bf4,Bg4,e3,e6,Be2,Be7,Nbd2,O-O,O-O,Bd6,Ne5,Bxe2,Qxe2,Nfd7,c4,Nxe5,dxe5,Be7,Rad1,c6,e4,Bg5,Bxg5,Qxg5,exd5,exd5,cxd5,cxd5,Nf3,Qd8,Qd3,Nc6,Qxd5,Qb6,e6,fxe6,Qxe6+,Kh8,Ng5,h6,Nf7+,Kh7,Rd7,Rae8,Qf5+,Kg8,Nxh6+,Kh8,Qh3', 'Qxf2+,Rxf2,Re1+,Rf1,Rfxf1#', 'https://lichess.org/training/95RO1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('95stm', 'Rapid', 'sheriar', 1847, 'ChesSuxX', 1891, 'e4,c5,Nf3,d6,d4,Nf6,Nc3,cxd4,Nxd4,Nc6,Be3,Ng4,Qd2,Nxe3,Qxe3,Qb6,Bb5,Bd7,Bxc6,bxc6,O-O,Qxb2,Rab1,Qa3,Rb7,Bc8,Rc7,c5,Ndb5,Qa5,e5,a6,exd6,axb5,Rxe7+,Kd8,Nd5,Be6,Nc7,Bxe7,dxe7+,Kxc7,Qxc5+,Kb7,Rd1,Rac8,Qe5,Rhe8,Qe4+,Kb8,Qe5+,Rc7,Rd8+,Kb7,Rxe8,Qxa2,h3,Bd7,Rd8,Qe6', 'Qxe6,fxe6,Rxd7,Rxd7,e8=Q', 'https://lichess.org/training/95stm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('95WLk', 'Classical', 'Azteca2763', 1667, 'IRAKLIUS-1121', 1664, 'Nf3,Nf6,b3,e6,Bb2,d5,e3,c5,c4,Nc6,g3,e5,Nxe5,Nxe5,Bxe5,Bg4,f3,Qe7,fxg4,Qxe5,Nc3,d4,Nd5,Nxd5,cxd5,Qxd5,Bb5+,Kd8,Rf1,f6,Qf3,Qxf3,Rxf3,Be7,exd4,cxd4,Rf5,a6,Rd5+,Kc7,Rc1+,Kb8,Bd3,Rd8,Rxd8+,Bxd8,Bf5,Ka7,Bxh7,Bb6,Bf5,Re8+,Kf1,Ba5,Rc8,Rxc8,Bxc8,Bxd2,Ke2,Be3,Kd3,g5,Bf5,Kb6,Kc4,Ka5,a4,b5+,axb5,axb5+,Kd3,Kb4,Be6,Kc5,h3,Bf2,Bf5,Bxg3,Be6,Bf2,Bf5,Kb4,Be6,Ka3,Bd5,Kb4,Be6,Kc5,Bf5,Kd6,Bc8,Ke5,Bf5,Kf4,Bd7,b4,Bf5,Kg3,Kc4,Kxh3,Kxb4,Kg3,Kc4,Kf4,b4,Ke3,b5,Kd2,b6,d3', 'b7,Ba7,Bxd3', 'https://lichess.org/training/95WLk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('95y7b', 'Rapid', 'tuhamaalazzeh', 1917, 'Alexander_Malhin', 1911, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bd3,Be7,O-O,O-O,Nc3,Bg4,h3,Bh5,g4,Bg6,Ne5,Bxd3,Qxd3,Nbd7,g5,Nxe5,dxe5,Ne4,h4,Nxc3,bxc3,Bc5,Be3,Bxe3,Qxe3,Re8,f4,c6,Rad1,Qc7,Qc5,Qb6,Qxb6,axb6,Ra1,Ra3,Rf3,Rea8,Re3,d4,Rd3,Rxc3,Rxd4,Rxc2,a4,g6,Rb4,b5,a5,b6,a6,Rc4,Rxc4,bxc4,Kf2,b5,Ke3,Kf8,Kd4,Ke7,Kc5,Kd7,Kb6,Kc8,Kxc6,b4,Kc5,c3,Kxb4,c2,Kb5', 'Rb8+,Kc4,Rb1', 'https://lichess.org/training/95y7b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('966CF', 'Rapid', 'KingsDeMise', 1984, 'liajsan', 2012, 'd4,Nf6,Nf3,e6,c4,d5,Nc3,Bb4,Qc2,b6,Bd2,dxc4', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/966CF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('96BQ3', 'Rapid', 'Furday', 1635, 'masuib', 1639, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,e6,Bc4,Bd6,d4,Ne7,O-O,a6,d5,b5,Bb3,e5,a4,b4,Na2,a5,Bc4,Ba6,Qe2,Nxd5,Bxa6,Nxa6', 'Qb5+,Qd7,Qxd5', 'https://lichess.org/training/96BQ3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('96Df0', 'Blitz', 'serh7', 1547, 'ebabushkin', 1648, 'e4,c5,Nf3,Nc6,Bb5,e6,c3,d5,exd5,exd5,d4,Qb6,a4,a6,Bd3,Nf6,O-O,Be7,Re1,O-O,Ne5,Be6,Qc2,cxd4,Bg5,Nxe5,Rxe5,dxc3,Bxf6,Bxf6,Bxh7+,Kh8,Rh5,cxb2,Bd3+,Kg8', 'Bh7+,Kh8,Bg8+,Kxg8,Qh7#', 'https://lichess.org/training/96Df0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('96Ex1', 'Blitz', 'PinkDream', 1803, 'OmarDF', 1868, 'e4,c5,Nc3,Nc6,Bb5,g6,Bxc6,bxc6,f4,e5,Nf3,exf4,d3,Bg7,Bxf4,Ne7,O-O,d5,e5,Nf5,Na4,Qe7,Bg5,Qc7,Nxc5,Qb6,d4,O-O,Rb1,h6,Bf4,g5,Bd2,Nxd4,Be3,Nxf3+,Qxf3,Qd8,Rf2,Bxe5,Rbf1,Qc7,Ne6,Bxe6,Bc5,Bxh2+,Kh1,Bd6,Bxd6,Qxd6,Qh5,Kg7,Rf6,Rh8', 'Rxf7+,Bxf7,Qxf7#', 'https://lichess.org/training/96Ex1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('96i7r', 'Blitz', 'Don_juan1', 1990, 'GM Alexander_Zubov', 2946, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,c5,Be3,Qa5,Bd2,O-O,Bd3,Nd7,O-O,e5,d5,f5,c4,Qc7,Ng5,Nf6,Qe2,f4,Bc3,h6,Nf3,Ne8,Nh4,Kh7,g3,Nd6,Nf3,Bg4,Ng5+,hxg5,Qxg4,Qe7,f3,a6,a4,b6,Kg2,Bf6,h4,gxh4,Rh1,g5,gxh4,gxh4,Qh5+,Kg8,Kf2,Rf7,Rag1+,Rg7,Rxg7+,Kxg7,Rg1+,Kf8,Rg6,Qf7,Qh6+,Ke7,Qh5,Rg8,Rh6,Qg7', 'Rh7,Qxh7,Qxh7+', 'https://lichess.org/training/96i7r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('96MFz', 'Blitz', 'Stankovich', 2065, 'windows96-sound', 2166, 'e4,Nc6,Nf3,Nf6,e5,Ng8,d4,d5,Bb5,Bg4,h3,Bxf3,Qxf3,e6,O-O,a6,Bxc6+,bxc6,Re1,c5,c3,cxd4,cxd4,c5,dxc5,Bxc5,Qg4,Kf8,Nd2,Ne7,Nb3,Rc8,Nxc5,Rxc5,Be3,Rc4,Qe2,Nf5,b3,Rc6,Rac1,Qc8,Rxc6,Qxc6,Rc1,Nd4,Qd2', 'Qxc1+,Qxc1,Ne2+,Kf1,Nxc1', 'https://lichess.org/training/96MFz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('96mp0', 'Rapid', 'drbedrocan', 1771, 'pedroberto', 1712, 'd4,d5,Nf3,Nf6,Nc3,e6,Bf4,Bb4,a3,Ba5,b4,Bb6,e3,O-O,Be2,c6,O-O,Bc7,Bxc7,Qxc7,Ne5,Nbd7,b5,Nxe5,dxe5,Nd7,bxc6,Nxe5,cxb7,Bxb7,Nb5,Qe7,f4,Nc4,Bxc4,dxc4,Qg4,Rab8,Nd4,e5,Nf5,Qf6,fxe5,Qxe5,Nh6+,Kh8,Nxf7+,Rxf7,Rxf7,Bd5,Raf1,Bxf7,Rxf7,Qxe3+,Kf1', 'Rb1+,Qd1,Rxd1#', 'https://lichess.org/training/96mp0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('96Om0', 'Rapid', 'abobakr_hassan', 1682, 'Alex_Anaua', 1759, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bg5,Be7,O-O,Qc7,Bb3,b5,a4,b4,Nd5,Nxd5,exd5,Bxg5,dxe6,fxe6,Nxe6,Bxe6,Qh5+,g6,Qxg5,Bxb3,cxb3,O-O,Rfe1,Nd7,Re7,Qd8,Rae1,Ne5,f4,Nc6', 'Qd5+,Kh8,Qxc6', 'https://lichess.org/training/96Om0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('96sP4', 'Rapid', 'topalov-36', 2121, 'kimlopes', 2095, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,Nf6,f3,g6,Be3,Bg7,g4,Bd7,Qd2,O-O,O-O-O,Rc8,h4,Nxd4,Bxd4,Be6,Kb1,Qa5,Nd5,Qxd2,Nxe7+,Kh8,Rxd2,Rc7,Nd5,Nxd5,exd5,Bd7,Bxg7+,Kxg7,h5,a6,Bd3,Re8,hxg6,hxg6,Rdh2,Kf6,b3,Re3,Rh3,Rc5,g5+,Ke7,Rg3,Rxd5,Be4,Rd4,Bxb7,Bf5,Bxa6,Rd2,Bd3,Bxd3,cxd3,Ree2,Rgg1,Rb2+,Ka1,Rxa2+,Kb1,Reb2+,Kc1,Rxb3,Re1+,Kf8,Rh8+,Kg7,Reh1,Ra1+,Kc2,Rxh1,Rxh1,Rb5,Rg1,f5,Kc3,Re5,Kd4,f4,Rg4,Rf5,Ke4,d5+,Kd4,Kf7,Kc5,Ke6,d4,Rf8,Kc6,Rf7,Rg1,Rf5,Re1+,Kf7,Re5', 'Rxe5,dxe5,Ke6', 'https://lichess.org/training/96sP4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('96u7k', 'Rapid', 'Alcamisev', 1739, 'jose223', 1821, 'c4,e5,g3,Nf6,Bg2,d6,Nf3,Nc6,O-O,h5,b3,e4,Ng5,h4,Nxe4,Nxe4,Bxe4,hxg3,fxg3,Qg5,d3,Qh5,Rf2,Bh3,Nc3,Bg4,Nd5,O-O-O,Bf3,Bxf3,exf3,f5,Bb2,Ne5,f4,Qxd1+,Rxd1,Ng4,Re2,c6,Ne7+,Bxe7,Rxe7,Rxh2,Bxg7,Rxa2,b4,Rd7,Bf8,Rxe7,Bxe7,Re2,Bxd6,Kd7,Bf8,Ne3,Ra1,a6,Bc5,Rg2+,Kh1,Rxg3,Re1,Ng4,Re7+,Kc8,Bb6,Rxd3', 'Re8+,Kd7,Rd8+,Ke6,Rxd3', 'https://lichess.org/training/96u7k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('96UkO', 'Blitz', 'vacca', 1515, 'Pailai', 1519, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nf3,Bb4+,c3,Be7,Be3,Nf6,Bd3,O-O,Nbd2,Ng4,O-O,Nxe3,fxe3,d6,Qe1,Bg4,h3,Bh5,g4,Bg6,h4,h6,h5,Bh7,Qg3,Nb8,Rf2,Nd7,Rg2,Nc5,Bc2,Qb6,g5,Qxb2,Nb3,Nxb3,Rb1,Qxc3,Rxb3,Qa1+,Bb1,hxg5,Nxg5,Bxg5,Qxg5,g6,hxg6,fxg6,Rxb7,Rf7,Rxf7,Qxb1+,Kh2,Kxf7,Rf2+,Kg7,Qf6+,Kh6,Qh4+,Kg7,Qf6+,Kg8,Qf7+,Kh8,Qf6+,Kg8,Qe6+,Kg7,Rf7+,Kh6,Qh3+,Kg5,Qg3+,Kh5,Qh3+,Kg5', 'Qg3+,Kh6,Qh4#', 'https://lichess.org/training/96UkO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('96wFP', 'Rapid', 'blobbyfisher', 1879, 'gyanu', 1866, 'e4,c5,Nf3,Nc6,Bb5,g6,O-O,Bg7,Nc3,Nd4,Re1,a6,Nxd4,cxd4,Bxd7+,Bxd7,Nd5,Nf6,Nxf6+,Bxf6,d3,O-O,Bh6,Bg7,Bxg7,Kxg7,c3,e5,cxd4,exd4,Qb3,b5,Qd5,Be6,Qe5+,Kg8,a4,b4,a5,Re8,Qc5,b3,Ra4,Rc8,Qxd4,Qxd4,Rxd4,Rc2,Rb1,Rec8,h3,Rc1+,Rxc1,Rxc1+,Kh2,Rc2,Rd8+,Kg7,Ra8,Rxb2,Rxa6,Rxf2,Rb6,b2,a6,Ba2,a7,b1=Q', 'Rxb1,Bxb1,a8=Q', 'https://lichess.org/training/96wFP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('96WsR', 'Rapid', 'Grky39', 1930, 'kentt', 1854, 'c3,d5,d4,Nf6,Nf3,c6,Bg5,Bf5,e3,e6,Bd3,Bxd3,Qxd3,Bd6,Nbd2,Qc7,c4,Nbd7,c5,Be7,h3,h6,Bh4,b6,b4,a5,bxa5,Rxa5,Nb3,Ra3,Qc2,bxc5,Nxc5,Nxc5,dxc5,O-O,O-O,Rfa8,Rfb1,Ne4,Bxe7,Qxe7,Nd4,Rc3,Qb2,Qxc5,Qb7,Rca3,Rc1,Qa5,Nxc6,Qd2,Rf1,Rxa2,Rxa2,Rxa2,Ne5,Ng5,Qb8+,Kh7,Qb1+,Qc2,Qb7,f6,Ng4,Qg6,Rc1,h5,h4,hxg4,hxg5,Qxg5', 'Qb1+,f5,Qxa2', 'https://lichess.org/training/96WsR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('977bt', 'Classical', 'SoulYah', 1989, 'vladimir1067', 1956, 'c4,e6,g3,Bc5,Bg2,f6,Nf3,Qe7,O-O,Qf7,d4,Be7,Nc3,Bd8,e4,Ne7,e5,Ng6,Re1,O-O,Qb3,fxe5,dxe5,Nc6,Qc2,d6,exd6,cxd6,Bg5,Bxg5,Nxg5,Qe7,Qd2,h6,Nd5', 'Qxg5,Qxg5,hxg5', 'https://lichess.org/training/977bt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('978xV', 'Rapid', 'piramides3', 1861, 'pvtgergo7', 2086, 'e4,c6,Nc3,d5,exd5,cxd5,d4,Nf6,Nf3,Bg4,Be2,Nc6,Bg5,e6,Ne5,Bxe2,Qxe2,Nxd4,Qd3,Qb6,O-O,Be7,Be3,Nf3+,Nxf3,Qc7,Bd4,O-O,Rfe1,Rac8,Ng5,Bd6,Bxf6,g6,Nxh7,Bxh2+,Kh1,Bf4,Ng5,Qb6,Nxe6,Rfe8,Qxd5,fxe6,Qd3,Kf7,Bh4,Rh8,g3,Qxf2,Rf1', 'Rxh4+,gxh4,Qh2#', 'https://lichess.org/training/978xV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('979mc', 'Classical', 'millin', 2045, 'mysteryhero_3690', 1745, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nd4,Ba4,Nf6,Nxe5,O-O,c3,Nc6,Nxc6,dxc6,d4,Bb6,e5,Nd5,Na3,c5,c4,Nb4,d5,c6,Nc2,Nxc2,Bxc2,cxd5,cxd5,Re8,Re1,Qh4,g3,Qd4,Qxd4,cxd4,Ba4,Rd8,Bg5,Rxd5,Bb3,Rb5,Bc4,Rxb2,Bc1,Rc2,Bb3,Rc7,Ba3,Bc5,Bxc5,Rxc5,Rad1,Be6,Bxe6,fxe6,Rxd4,Ra5,Re2,Re8,f4,Kf7,Kf2,Ra3,Rb4,Re7,Rb3,Rxb3,axb3,Rc7,Rd2,Kg6,g4,h5,Kg3,Rc3+,Kh4,hxg4,Kxg4,Rxb3,Rd6,Rb6,f5+,Kf7,Rd7+,Kf8,fxe6,Rxe6,Kf5,Rb6,e6,a5,h4,a4,h5,a3,Rd8+,Ke7,Rd7+,Ke8,Rxg7,a2,Rg8+,Ke7,Rg7+,Kd6,Rd7+,Kc6,Rd1,Rb1', 'e7,Rxd1,e8=Q+', 'https://lichess.org/training/979mc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('97DuJ', 'Rapid', 'matem32', 1926, 'conorsheehan', 1930, 'e4,c5,Bc4,Nc6,d3,g6,h4,h5,Qf3,Nf6,Bg5,Ne5,Qf4,Nxc4,dxc4,Bg7,Bxf6,Bxf6,e5,Qa5+,Nc3,Bg7,O-O-O', 'Bh6,Qxh6,Rxh6', 'https://lichess.org/training/97DuJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('97eHn', 'Rapid', 'SalomonMartinez_UTEC', 1902, 'Sabryelsayed', 1897, 'e4,e5,Bc4,Bc5,Nf3,d6,Nc3,a6,Ne2,h6,c3,Nf6,d3,Bg4,Ng3,Nc6,h3,Be6,Bxe6,fxe6,d4,exd4,cxd4,Ba7,Be3,O-O,O-O,e5,Qb3+,Kh8,dxe5,dxe5,Qxb7,Bxe3,Qxc6,Bf4,Nf5,Qd7,Qc5', 'Nxe4,Qc2,Qxf5', 'https://lichess.org/training/97eHn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('97hZv', 'Blitz', 'FM JackBauer', 2071, 'Homotop', 2150, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Nd7,Ng5,h6,Ne6,Qb6,Nxf8,Nxf8,c3,Bf5,Nf3,Nf6,Be2,e6,O-O,Ng6,g3,O-O,Re1,Rad8,Qb3,Qc7,Be3,Nd5,Nd2,Nxe3,fxe3,e5,Bc4,b5,Bf1,h5,Be2,h4,g4,Be6,Qc2,exd4,cxd4,Qd7,h3,Nf4,Bf1,Nd5,Nf3,Nb4,Qf2,Bxa2,Nxh4,Bc4,Rac1,Bxf1,Qxf1,Qd5,Re2,Rfe8,Nf5,g6,Rc5,Qe4,Nh6+,Kg7,Qxf7+,Kxh6', 'g5+,Kh5,Qh7#', 'https://lichess.org/training/97hZv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('97K5j', 'Blitz', 'pottsime', 2027, 'blarghl5', 2136, 'd4,d6,e4,g6,Nc3,Bg7,f4,Nd7,Nf3,e5,Bc4,Ne7,Bxf7+,Kf8,Ng5,Nf6,dxe5,Bg4,exf6,Bxd1,fxg7+,Kxg7,Ne6+,Kxf7,Nxd8+,Raxd8,Kxd1,d5,e5,Nf5,g4,Nh4,Ke2,Rhe8,Bd2,g5,fxg5,Rxe5+,Kf2,d4,Ne2,d3,cxd3,Rxd3,Rad1,Red5,g6+,hxg6,Bg5', 'Rf3+,Ke1,Ng2#', 'https://lichess.org/training/97K5j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('97UBV', 'Blitz', 'FM sandi_s', 2400, 'BrankoShibarevic', 2457, 'c4,g6,d4,Bg7,e4,c5,d5,d6,Nf3,a6,Nc3,e6,Bd3,Ne7,O-O,O-O,Rb1,exd5,cxd5,Bg4,h3,Bxf3,Qxf3,Nd7,Qe2,Ne5,Bc2,b5,f4,Nc4,Bd3,Nb6,Be3,Re8,Kh2,Bxc3,bxc3,Nexd5,exd5,Nxd5,Rf3,Nxc3,Qc2,Nxb1,Qxb1,Qf6,f5,Rxe3,Rxe3,Qd4,Qe1,Kg7,fxg6,hxg6,Bxg6,fxg6,Re7+,Kf8,Re6,Kf7,Re4,Qf6,Qe3,Kg7,Re7+,Kg8,Re6,Qf7,Qe4,d5,Qxd5,Rf8,Rxg6+,Kh7', 'Qh5#', 'https://lichess.org/training/97UBV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('97UXg', 'Blitz', 'a_artikov', 1563, 'elvisrock85', 1660, 'e4,e5,Nf3,Nc6,b4,Bxb4,c3,Be7,Bc4,Nf6,d3,O-O,Qb3,Na5,Qa4,Nxc4,Qxc4,d6,O-O,a5,Nbd2,b6,a4,Ba6,Qa2,Bxd3,c4,Bxf1,Kxf1,Qd7,Nh4,Qc6,Nf5,Rfe8,Qb3,Nxe4,Nxe4,Qxe4,Qh3,Qxc4+,Kg1,Qd5,Be3,Bf6,Qg3,e4,Qg4,Bxa1,Bh6,g6,Ne3,Qb3,h3,Be5,g3,Qxa4,h4,d5,h5,Qa1+,Kg2,d4,Nf5,e3,hxg6,fxg6,Qg5,exf2,Kxf2,Qb2+,Kg1,Bd6,Ne7+,Bxe7', 'Qd5+,Kh8,Qe5+,Bf6,Qxf6+,Kg8,Qg7#', 'https://lichess.org/training/97UXg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('985qx', 'Blitz', 'rchristoffer', 1594, 'lorenzograsso', 1579, 'd4,c5,Nc3,cxd4,Qxd4,Nc6,Qd1,Nf6,Bf4,g6,e3,Bg7,Nb5,d6,Rb1,Qa5+,c3,a6,b4,Qxa2,Nc7+,Kf8,Bxd6,Bf5,Nxa8,Bxb1,Nb6,Bc2,Bxe7+,Nxe7', 'Qd8+,Ne8,Nd7+,Kg8,Qxe8+,Bf8,Qxf8#', 'https://lichess.org/training/985qx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('98BI8', 'Rapid', 'BlubBlubMurgurgle', 1603, 'VitLiss1986', 1671, 'e4,e5,Nf3,Nc6,Bc4,h6,d3,Nf6,O-O,Bc5,c3,d5,exd5,Nxd5,a3,Be6,Re1,O-O,Nxe5,Nxe5,Rxe5,Qf6,d4,Bb6,Qe1,Ne7,Bxe6,fxe6,Rxe6,Qh4,Rxe7,c5,Be3,Qxe7,dxc5,Bxc5,Nd2,Rae8,h3,Qh4,Nf3,Qf6,Qd2,Bxe3,fxe3,Rd8,Qe2,Rfe8,Re1,Qb6,b4,Rd7,Nd4,Rde7,Qf3,Qa6,Nf5,Rf7,Qd5,Re6,Rd1,g6,Nxh6+,Kg7,Nxf7,Kxf7,Qd7+,Re7,Rf1+', 'Qxf1+,Kxf1,Rxd7', 'https://lichess.org/training/98BI8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('98k0y', 'Rapid', 'jjww', 2039, 'fadjri_fiancheto', 1997, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,d6,h3,c5,dxc5,O-O,cxd6,exd6,Bf4,Nc6,Qxd6,Qa5,Qa3,Qf5,e3,Re8,Be2,Ne5,Bxe5,Rxe5,Nxe5,Qxe5,O-O,Bxh3,Bf3,Ng4,Bxg4,Bxg4,Nd5,Qh5,e4,Be5,g3', 'Bf3,Qxf3,Qxf3', 'https://lichess.org/training/98k0y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('98KmI', 'Blitz', 'Shbr_Vakil', 1686, 'tokamame', 1715, 'd4,d5,c4,e6,Nf3,h6,Nc3,Nf6,Bf4,Be7,e3,O-O,Bd3,c5,cxd5,Nxd5,O-O,Nxf4,exf4,Nc6,dxc5,Bxc5,Ne4,Bb6,Rc1,Nb4,Bb1,Bd7,a3,Nd5,Qd3,Nxf4', 'Nf6+,Qxf6,Qh7#', 'https://lichess.org/training/98KmI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('98NJk', 'Blitz', 'GGM-Allahu-Akbar', 2030, 'Lennartvan', 2101, 'Nf3,Nf6,c4,e6,d4,d5,Nc3,dxc4,e3,Bb4,Bxc4,Nc6,O-O,Nd5,Qc2,O-O,Bd2,Bxc3,Bxc3,Ncb4,Qd2,Nxc3,bxc3,Nd5,e4,Nb6,Bd3,f5,Rfe1,fxe4,Rxe4,Nd5,Rae1,h6,Ne5,Qf6,c4,Nf4,R1e3,Nxd3,Nxd3,b6,Rf3,Qe7,Rxf8+,Qxf8,Rf4,Qd6,Ne5,Bb7,Qe3,Qb4,h3,Rf8,Ng6', 'Qb1+,Kh2,Qxg6,Rxf8+,Kxf8', 'https://lichess.org/training/98NJk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('98oX6', 'Blitz', 'S4UT', 2064, 'ezerivera', 1958, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,d4,Bb4+,Nc3,Qe7,Be3,Nbd7,d5,Bg4,Be2,h5,h3,Bf5,Nf3,O-O-O,a3,Bxc3+,bxc3,Rdg8,O-O,g5,Bxg5,Bxh3,gxh3,Ne4,h4,Nxg5,hxg5,Ne5,Qd2,Nxf3+,Bxf3,Rxg5+,Kh1,Rhg8,Rg1', 'Rxg1+,Rxg1,Qh4#', 'https://lichess.org/training/98oX6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('98Q1s', 'Rapid', 'DMC43', 1640, 'Amaya_Carlo_9999', 1683, 'e4,e5,d4,exd4,c3,d6,cxd4,Nf6,Nc3,Be7,d5,O-O,Nf3,Bg4,Be2,c6,O-O,cxd5,Nxd5,Nxd5,exd5,Nd7,Qd4,Nf6,Bg5,h6', 'Bxf6,Bxf3,Bxe7,Qxe7,Bxf3', 'https://lichess.org/training/98Q1s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('98Q1u', 'Rapid', 'efoh', 1833, 'irrs1774', 1792, 'd4,d5,c4,Nf6,cxd5,Qxd5,Nc3,Qd8,Nf3,h6,e4,Bg4,Be2,e6,O-O,Bb4,e5,Nd5,Qd3,Nc6,a3,Bxc3,bxc3,Nf4,Bxf4,Bf5,Qb5,Rb8,Nd2,a6,Qa4,O-O,Bf3,Bd3,Rfe1,Bb5,Qc2,Qh4,Bg3,Qg5,a4,Nxd4,cxd4,Bc6,Ne4,Qg6,Qe2,Rbd8,Qe3,Rfe8,Nc5,Bxf3,Qxf3,Rd5,Nxb7,Rb8,Nc5,Rxd4,Nxa6,Rc8,Rec1,Rd3,Qb7,Rcd8,Nxc7,Qg5,a5', 'Qxc1+,Rxc1,Rd1+,Rxd1,Rxd1#', 'https://lichess.org/training/98Q1u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('98UCo', 'Blitz', 'Vicktor0204', 1831, 'Laukspauk', 1843, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,b5,Bxb5,Qxd5,Bxc6+,Qxc6,c3,Bb7,Qb3,Qxg2', 'Qxf7+,Kd8,Ne6+,Kc8,Qxc7#', 'https://lichess.org/training/98UCo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('98zCy', 'Rapid', 'LordGucci05', 1726, 'mav1984', 1728, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Bd3,Bxd3,Qxd3,a6,Nc3,c5,dxc5,Bxc5,Be3,Bxe3,fxe3,Nc6,O-O-O,Qc7,a3,Nxe5,Nxe5,Qxe5,e4,d4,Qxd4,Qxd4,Rxd4,Rd8,Rxd8+,Kxd8,Rd1+,Kc7,e5,Ne7,g4,Ng6,Re1,Rd8,h3,Nh4,Ne4,Nf3,Re3,Nxe5,Ng5,Nc4,Rc3,Rd4,Nxf7,Kd7', 'Rxc4,Rxc4,Ne5+,Kd6,Nxc4+', 'https://lichess.org/training/98zCy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('991Yq', 'Rapid', 'PawnRaider', 1993, 'Sean777', 2005, 'd4,c6,c4,d5,Qc2,Nf6,Nf3,Bg4,Nbd2,e6,g3,Bf5,Qb3,Qb6,Bg2,Ne4,O-O,Nd7,Nxe4,Bxe4,Qxb6,Nxb6,b3,dxc4,bxc4,Nxc4,Bf4,Ba3,Rfd1,O-O,Nd2,Nxd2,Bxd2,Bxg2,Kxg2,Rfd8,Bc3,Rd7,Rab1,b6,Rb3,Be7,e4,Bf6,d5,Bxc3,Rxc3,exd5,exd5,cxd5,Rcd3,Rad8,Rd4,Kf8,Kf3,f6,h4,Kf7,Kf4,h6,h5,Ke6,Re1+,Kd6,Rc1,Re8,Rcd1,Re5,Kg4,Rg5+,Kh4,Kc5', 'f4,Re5,fxe5', 'https://lichess.org/training/991Yq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('992sQ', 'Rapid', 'SlavkoSah', 1872, 'Hamid005', 1870, 'e4,c5,Bc4,d6,f4,Nf6,d3,Nc6,Nf3,g6,Ng5,e6,a3,Bg7,O-O,O-O,Nc3,a6,h3,h6,Nf3,b5,Ba2,Nh5,Kh2,Nd4,g4,Nxf3+,Qxf3,Nf6,e5,Ne8,Qxa8,dxe5,Qe4,f5,Qe2,exf4,Bxf4,Kh7,Rae1,g5,Be5,Nf6,gxf5,exf5,Bxf6,Qxf6,Qe7,Qd4,Rf3,g4,hxg4,fxg4,Rxf8,g3+,Kg2,Qg4,Bg8+,Kg6,Qf7+,Kg5,Ne4+,Kh4,Rh1+,Qh3+,Rxh3+,Bxh3+,Kg1,Bd4+,Kh1', 'g2+,Kh2,g1=Q#', 'https://lichess.org/training/992sQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9951r', 'Rapid', 'bechirmohamedou', 2007, 'vega2019', 2083, 'e4,c5,d4,cxd4,c3,dxc3,Nf3,cxb2,Bxb2,a6,Nbd2,Nc6,Bc4,e6,O-O,Nf6,e5,Ng8,Ne4,b5,Bb3,Bb7,a4,b4,Nd6+,Bxd6,Qxd6,Nge7,Rfd1,Bc8,Bc1,Nf5,Qc5,h6,Bc2,Nfe7,Be4,O-O,Nd4,Qc7,Bf4,Rb8,Rac1,Bb7,Nf3,Rfd8,Qxe7', 'Nxe7,Rxc7,Bxe4', 'https://lichess.org/training/9951r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('997gn', 'Rapid', 'sergineto', 2029, 'domhabs', 1800, 'e4,e5,Bc4,Nf6,Nc3,Bc5,Nf3,O-O,O-O,c6,Nxe5,d5,exd5,cxd5,Bb3,Re8,d4,Bb6,Bg5,Nc6,Nxc6,bxc6,Qd3,h6,Bh4,Bc7,f4,a5,Na4,Qd6,Nc5,Ne4,Nxe4,Rxe4,c3,Ba6,c4,Rae8,Rae1,Qg6,Rxe4,Rxe4,Bg3,Rxf4', 'Qxg6,Rxf1+,Kxf1,fxg6,Bxc7', 'https://lichess.org/training/997gn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('99cBt', 'Classical', 'nutirowski', 1944, 'somar550', 1864, 'd4,d5,Bf4,Bf5,Nf3,Nf6,h3,h6,e3,e6,c3,Bd6,Qb3,b6,Bb5+,c6,Ne5,cxb5,Qxb5+,Nbd7,Nxf7,Kxf7,Bxd6,Ne4,Bh2,Rf8,f3,Nef6,O-O,Kg8,Nd2,Qe7,Rae1,Rae8,Qc6,e5,e4,Be6,dxe5,Nxe5,Bxe5,Bd7,Bxf6,Rxf6,Qxd5+,Be6,Qb5,Rg6,Kh1,Qh4,Qxe8+,Kh7,Qb8,Rg3,Re2,a5,b3,b5,Qe5,Bc8,c4,bxc4,Nxc4,Bxh3,gxh3', 'Qxh3+,Rh2,Qxf1#', 'https://lichess.org/training/99cBt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('99lkh', 'Blitz', 'FM Aki_2001', 2428, 'RIDAN1', 2192, 'Nf3,d5,g3,c6,Bg2,Nf6,O-O,g6,d4,Bg7,c4,O-O,Qb3,a6,Nc3,b5,cxd5,cxd5,Ne5,Bb7,a4,Nc6,Nxc6,Bxc6,axb5,axb5,Bf4,Qb6,Be5,e6,h3,Rfc8,e3,b4,Ne2,Nd7,Bxg7,Kxg7,Rxa8,Rxa8,Rc1,Ba4,Qd3,Bb5,Qd2,Bc4', 'Rxc4,dxc4,Bxa8', 'https://lichess.org/training/99lkh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('99nWv', 'Rapid', 'Irmbazirm', 1859, 'leMoritzz', 2359, 'e4,Nc6,Nf3,f5,exf5,d5,d4,Bxf5,Bd3,Bg4,O-O,Nxd4,Be2,Nxe2+,Qxe2,Nf6,Nc3,c6,Bf4,e6,h3,Bxf3,gxf3,Bd6,Qxe6+,Qe7,Qxe7+,Kxe7,Rfe1+,Kd7,Bxd6,Kxd6,Kg2,Rae8,Kg3,g5,Rad1,h5,Nb1,h4+,Kg2,Nh5,Nd2,Nf4+,Kh2,Kc7,Nb3,b6,Nd4,a6,Nf5,Rhf8,Ng7,Re2', 'Rxe2,Nxe2,Ne6+,Kd6,Nxf8', 'https://lichess.org/training/99nWv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('99pzQ', 'Classical', 'furyt', 1947, 'Chess-SpiriT_78', 1993, 'e4,g6,d4,Bg7,f3,d6,Bd3,Nf6,c3,O-O,Ne2,Nc6,Be3,e5,d5,Ne7,Qd2,Kh8,Na3,Nfg8,g4,c6,c4,cxd5,cxd5,Bd7,O-O-O,Qc7+,Kb1,Rac8,h4,a6,h5,b5,hxg6,Nxg6,Rc1,Qd8,Rxc8,Qxc8,Ng3,Nf4,Bxf4,exf4,Nf5,Bxf5,gxf5,Be5,Qa5,f6,Nc2,Rf7,Nb4,Rg7,Qxa6,Qc5,Qxb5,Qe3,Be2,Rg2,Re1,Qd2,Nd3', 'Rxe2,Rxe2,Qxe2', 'https://lichess.org/training/99pzQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('99To1', 'Rapid', 'Tomcsi', 1741, 'Davalmir', 1694, 'e4,c5,c3,g6,d4,cxd4,cxd4,d5,exd5,Nf6,Bc4,Nxd5,Nc3,Be6,Nf3', 'Nxc3,bxc3,Bxc4', 'https://lichess.org/training/99To1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9a2Zp', 'Rapid', 'Karel47', 1748, 'yankar', 1727, 'd4,d5,c4,c6,Nf3,Nf6,cxd5,cxd5,Bf4,Nc6,Nc3,e6,a3,Bd6,Qd2,a6,Bxd6,Qxd6,h3,O-O,e3,e5,dxe5,Nxe5,Nxe5,Qxe5,Be2,Rd8,Na4,Be6,Rd1,Ne4,Qd4,Qf5,O-O,b5,Nc3,h5,Nxe4,dxe4,Qxd8+,Rxd8,Rxd8+,Kh7,f3,exf3', 'Bd3,Qxd3,Rxd3', 'https://lichess.org/training/9a2Zp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9A3GO', 'Blitz', 'Souce01', 1612, 'Petre_pielo', 1674, 'e4,e6,Nf3,b6,Nc3,Bb7,d4,c5,d5,exd5,exd5,d6,Bd3,Nf6,Bb5+,Nbd7,O-O,Be7,Bg5,O-O,Re1,a6,Bc6,Bxc6,dxc6,Nb8,Bxf6,Bxf6,Qd5,Ra7,Ne4,Be7,Rad1,Qc7,Nxd6,Bxd6,Qxd6,Qxc6', 'Qxf8+,Kxf8,Rd8+,Qe8,Rexe8#', 'https://lichess.org/training/9A3GO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9A55q', 'Rapid', 'TikoP', 1837, 'emaN-drawkcaB', 1755, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,Nc3,Be7,d3,b5,Bb3,h6,a3,O-O,h3,d6,Be3,Na5,Ba2,c5,b4,Nc6,bxc5,dxc5,Nd5,Nxd5,Bxd5,Qa5+,Bd2,Qc7,c4,bxc4,dxc4,Bd6,O-O,Rb8,Rb1,Nd4,Nxd4,cxd4,Qf3,Be6,Qg3,Kh8,Qh4,Be7,Qg3,Bxd5,cxd5', 'Rxb1,Rxb1,Qc2', 'https://lichess.org/training/9A55q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9a5ed', 'Blitz', 'kelod1', 1611, 'tymekgrygierek', 1637, 'g3,d5,Bg2,e5,c3,Nf6,d3,Nc6,Nd2,Be6,Ngf3,Bd6,O-O,Qd7,Re1,O-O-O,e4,dxe4,Nxe4,Bh3,Nxf6,gxf6,b4,Bxg2,Kxg2,Rhg8,Bh6,Rg6,Be3,Rdg8,b5,Ne7,a4,e4,dxe4,c6,Bxa7,Qc7,bxc6,Bxg3,fxg3,Rxg3+,hxg3', 'Qxg3+,Kf1,Qg2#', 'https://lichess.org/training/9a5ed');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9a6N1', 'Rapid', 'filthyseabass', 1796, 'zebelbusy', 1741, 'e4,c5,Nf3,Nc6,g3,e6,Bg2,g6,O-O,Bg7,d3,Nge7,Nbd2,O-O,Re1,b5,Nf1,d5,e5,Qc7,Qe2,Nf5,c3,d4,h4,Bb7,N1h2,h5,Bf4,Rad8,Rad1,Rd7,Ng5,Rfd8,Nhf3,c4,Nxd4,Ncxd4,cxd4,Rxd4,dxc4,Bxg2,Kxg2,bxc4,Ne4,Qc6,f3,Qd5,Nc3,Qd7,Bg5,Rxd1', 'Rxd1,Qxd1,Nxd1', 'https://lichess.org/training/9a6N1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9A7bB', 'Blitz', 'oMega_boy', 1565, 'jwo0809', 1576, 'e4,c5,Nf3,d6,a4,Nf6,Nc3,Nc6,Bb5,Bd7,d3,a6,Bc4,e6,Bf4,Be7,Bb3,O-O,e5,dxe5,Nxe5,Nxe5,Bxe5,Nd5,Nxd5,exd5,Bxd5,Bc6,Qg4,Bf6,Bxc6,Bxe5,Be4,Re8,Qf5,g6,Qf3,Rb8,c3,f5,Bd5+,Kg7,h4,Bxc3+,Kd1,Bxb2,Rb1,Bd4,h5,Qa5,h6+,Kf6,g4,Re5,g5+,Ke7,Bxb7,Re8,Qc6,Kf8', 'Qf6+,Kg8,Qg7#', 'https://lichess.org/training/9A7bB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9AA6T', 'Blitz', 'NM stormline', 2137, 'hungerartist', 2151, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Ng5,Bf5,Bc4,e6,Ne2,Qd7,Nf4,Bd6,h4,a5,c3,Na6,Be3,Nc7,Qe2,O-O,a4,Ncd5,Bxd5,exd5,f3,Qc7,Qd2,Rfe8,Ne2,Bg3+,Nxg3,Qxg3+,Kf1,Nh5,Bf2,Qc7,g4,Nf4,gxf5,Re2,Qc1', 'Rxf2+,Kxf2,Nd3+,Kg2,Nxc1', 'https://lichess.org/training/9AA6T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9ABDR', 'Blitz', 'Rahmonbek', 1506, 'badplayer73', 1545, 'c4,e6,Nc3,Nf6,Nf3,d5,cxd5,Nxd5,d4,Bb4,Bd2,O-O,Nxd5,Bxd2+,Qxd2,Qxd5,e3,b6,Bd3,Bb7,O-O,Nc6,b3,a5,Bc4,Qe4,Ng5,Qg4,Nf3,Nb4,Qe2,Rae8,h3,Qh5,Rfe1,Nd5,Kh1,Nc3,Qd2,Ne4,Qc2,f5,Bd3,Nd6,Ne5', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/9ABDR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9ABqh', 'Blitz', 'ali_iraq', 1699, 'Nitzs', 1629, 'e3,Nf6,b3,e5,Bb2,d5,Bxe5,Be6,Nf3,Nbd7,Bg3,Nh5,d4,Nxg3,hxg3,Bg4,Rh4,Bb4+,c3,Bxf3,Qxf3,Be7,Rh1,Nf6,Bd3,Qd6,Nd2,O-O-O,c4,Qa3,Ke2,Bb4,Rhb1,Rhe8,cxd5,Bc3,Nc4,Qe7,Nb2,Nxd5,Bc4,Bxb2,Rxb2,Nc3+,Kd2,Qb4,Kd3,Na4,Qf5+,Kb8,Qb5,Nxb2+,Kc2,Qxb5,Bxb5,a6,Bxe8,Rxe8,Kxb2,Re6,Rh1,h6,Rh3,g5,Rh5,Rg6,f4,f6,fxg5,fxg5,g4,c6,Rh3,Kc7,Rf3,Kd6,Rf7,b6,Ra7,a5,Kc3,Kd5,Ra6,c5,a3,cxd4+,exd4,Rc6+,Kd3,Rf6,Ke3,Rf4,Rxb6,Re4+,Kf3,Rf4+,Kg3,Rxd4,Rxh6,Rd3+,Kh2,Rc3,Rg6,a4,Rxg5+,Ke4,b4,Rxa3,b5,Rb3,Rf5,a3,Rf3,Rxf3,gxf3+,Kxf3,b6,a2,b7', 'a1=Q,b8=Q,Qa2+,Kh3,Qg2+,Kh4,Qxg4#', 'https://lichess.org/training/9ABqh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9ACzi', 'Blitz', 'PolishFighter2999PL', 1566, 'CYRILLUSOLT', 2144, 'e4,g6,f4,d6,d4,Bg7,Nc3,c5,Be3,cxd4,Bxd4,Nf6,Qd2,O-O,Nf3,Nc6,Be3,Qa5,Bd3,Bg4,O-O,Bxf3,Rxf3,Ng4,Kh1,Nxe3,Qxe3,Bxc3,bxc3,Qxc3,Rb1,b6,Rh3,Qg7,Qe1,e5,f5,Nd4,Qd2,Rac8,c3,Nc6,Ba6,Rcd8,Bc4,Ne7,Rf1,Nc6,f6,Qh8,Qh6,Nb8,Rff3,Nd7,Rfg3,d5,Bxd5,Nxf6', 'Rxg6+,hxg6,Qxh8#', 'https://lichess.org/training/9ACzi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9AezJ', 'Rapid', 'hari1993', 1746, 'benyaich', 1675, 'e4,e5,Nf3,Nf6,Nc3,d6,Bc4,Be7,h3,c6,d3,b5,Bb3,Be6,Bxe6,fxe6,a3,Nbd7,Nh2,d5,exd5,exd5,Ng4,d4,Na2,O-O,Nxf6+,Bxf6,Nb4,Qc7,O-O,a5,Na2,Rf7,c3,Raf8,cxd4,exd4,Qg4,Ne5,Qe2,Re7,Qd1,c5,Bf4,Rd7,Nc1,c4,dxc4,Qxc4,Bg3,Ng6,Ne2,d3,Nf4,Nxf4,Bxf4,Rd4,Be3,Rd5,Rb1,Rc8', 'Rc1,Bxb2,Rxc4', 'https://lichess.org/training/9AezJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9AfS0', 'Rapid', 'emaN-drawkcaB', 1818, 'caissa246', 1854, 'd4,Nf6,c4,e6,Nf3,d5,g3,Be7,Bg2,dxc4,Qa4+,Nc6,Qxc4,O-O,O-O,Rb8,Nc3,Bd7,Ne5,Na5,Qd3,Bc6,Nxc6,Nxc6,Bxc6,bxc6,Qc4,Qd7,e4,Rb4,Qe2,Rxd4,Be3,Rd3,e5,Rxe3,fxe3,Nd5,Ne4,Qc8,Rac1,Qb7,Nc5,Bxc5,Rxc5,Qb6,Rfc1,h6,Kf2,Qb4,Rxc6,Qe4,Ra6,Nb4,Rc4', 'Nd3+,Kg1,Qxc4', 'https://lichess.org/training/9AfS0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9AKO8', 'Rapid', 'baagii1983', 1883, 'ritwikdas54', 1864, 'e4,e5,d3,Nc6,Be2,Bc5,Nf3,d6,O-O,Be6,a4,Nf6,Bd2,h6,Qe1,O-O,b4,Nd4,bxc5', 'Nxc2,Qd1,Nxa1', 'https://lichess.org/training/9AKO8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9AlIA', 'Classical', 'UviRubi', 2052, 'gaul5', 2185, 'f4,Nf6,d4,d6,Nc3,Bg4,h3,Bd7,e4,e6,Bd3,Be7,Nf3,Nc6,O-O,Nb4,a3,Nxd3,Qxd3,Bc6,d5,exd5,exd5,Bd7,Re1,h6,Qe2,c6,dxc6,bxc6,Bd2,Be6,Nd4,Qd7,f5,c5,fxe6,fxe6,Nxe6,Kf7,Qf3,Rhe8,Nd5,Kg8,Nec7,Nxd5,Nxa8,Qb7,Nc7,Qxc7,Qxd5+,Kh8,Re6,Rf8,Qe4,Bf6,Re1,Be5,Bc3,Qf7,Rg6', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/9AlIA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9anwd', 'Rapid', 'Don67', 1951, 'ahmt8', 1968, 'e4,e6,Nc3,d5,exd5,exd5,d4,Nf6,Bg5,Be6,Nf3,h6,Bh4,Be7,Bb5+,c6,Bd3,Nbd7,Qe2,Qb6,O-O,Qxb2,Na4,Qb4,Nc5,Nxc5,dxc5,Qxc5,h3,O-O,Kh1,Rad8,Ne5,Nd7,Nxd7,Rxd7,Bxe7,Rxe7,Qd2,b6,f4,d4,Rae1,Bxa2,Rxe7,Qxe7,f5,f6,Qf4,Qe5,Qf3,Bd5,Qf2,Re8,Ra1,a5,Qd2,Qe3,Qd1,Qf2,Qg1,Qxg1+,Kxg1,Kf7,g4,c5,Rb1,Rb8,Bb5,Be4,Bc4+,Ke7,Re1,Kd6,Rxe4,b5,Re6+,Kd7,Bd5,a4,Ra6,c4,Kf2,c3,Ke2,Re8+,Be6+,Kc7,Kd3,Rd8,Ra5', 'Kb6,Rxb5+,Kxb5', 'https://lichess.org/training/9anwd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9aoDg', 'Rapid', 'asicl', 1606, 'Parthkgm', 1636, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d5,exd5,Nxd5,O-O,Bc5,Qe2,O-O,Be3,Bxe3,fxe3,Re8,Bxd5,Qxd5,Nc3,Qe6,e4,Nd4,Nxd4,exd4,Nd5', 'Qxd5,exd5,Rxe2', 'https://lichess.org/training/9aoDg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9ArkB', 'Bullet', 'ryzhr', 1551, 'flyingZurich', 1538, 'e4,c5,Bc4,d6,Bxf7+,Kxf7,Nf3,Nf6,e5,Nfd7,exd6,exd6,c3,Nc6,d4,cxd4,Ng5+,Kg8', 'Qb3+,d5,Qxd5#', 'https://lichess.org/training/9ArkB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9ATU8', 'Rapid', 'Garrincha', 1711, 'idler76', 1656, 'e4,c5,Nf3,e6,Nc3,a6,e5,Qc7,d3,b5,d4,cxd4,Qxd4,Bb7,Be2,Nc6,Qg4,Nb4,Bd3,Bxf3,Qxf3,Qxe5+,Be3,d5,O-O,Nf6,Rfe1,Ne4,a3,Nxd3,cxd3,d4,Bf4,Nd2,Bxe5,Nxf3+,gxf3,dxc3,bxc3,Be7,Kh1,O-O,Rg1,f6,Bd4,e5,Be3,Rac8,Bh6,Rf7,Bd2,Bc5,Kg2,g5,h3,Rg7,Kf1,h5,Be3,Bd6,a4,Rxc3,axb5,axb5,h4,Rxd3,hxg5,f5,g6,f4', 'Ra8+,Bf8,Bc5', 'https://lichess.org/training/9ATU8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9AXkh', 'Blitz', 'igortuff', 1650, 'swordsmankirby', 1571, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,Nf6,Bb5,Qe7,Nf3,Nxe4,O-O,d5,Bxc6+,bxc6,Nc3,Ba6,Re1,Kd8,Nxe4,Qxe4,Qc3,Bb4,Qxc6,Bxe1,Qxa8+,Bc8,Qxa7,Re8,Be3,Bb4,c3,Bd6,Qd4,Qxd4,Bxd4,c5,Be3,f5,Rd1,Bb7,Kf1,f4,Bc1,c4,b3,cxb3,axb3,Kc7,Nd4,Bc5,Bxf4+,Kb6,b4,Bxd4,Rxd4', 'Ba6+,c4,Bxc4+,Rxc4,dxc4', 'https://lichess.org/training/9AXkh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9AYjZ', 'Rapid', 'KingNoir', 1858, 'elverenduran', 1784, 'e4,e5,Nf3,Nc6,c3,Be7,d4,d6,Bb5,Bd7,d5,Nb8,Qb3,a6,Bxd7+,Nxd7,Qxb7,Ngf6,Nbd2,O-O,Qb3,Nc5,Qc2,Rc8,b4,Ncd7,O-O,c5,bxc5,Nxc5,Ba3,Ng4,h3,Nf6,Bxc5,Rxc5,c4,Qc8,Rac1,Nd7,Nb3,Rc7,Na5,Nb8,Rfd1,f5,Nxe5,Bg5,Nec6,Bxc1,Rxc1,Nxc6,Nxc6,fxe4,Qxe4,Qf5,Qxf5,Rxf5,Rc2,h5,Re2,Rxc6,dxc6,Rc5,Rd2,Rxc6,Rd4,Kf7,g4,hxg4,hxg4,Ke6,f4,Rb6,Re4+,Kf6,Kf2,Rb2+,Re2,Rb4,Rc2,a5,Ke3,a4,Kd4,a3,Rc3,Ra4,Kd5,Ke7,Re3+,Kd7,Re6', 'Ra5+,Kd4,Kxe6', 'https://lichess.org/training/9AYjZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9b008', 'Rapid', 'welcern', 1891, 'Gameel2020', 1923, 'e4,d5,exd5,Nf6,c4,g6,Nc3,Bg7,Nf3,Bg4,Be2,O-O,d3,c6,dxc6,Nxc6,O-O,Rb8,a3,Bxf3,Bxf3,Nd4,Re1,Qa5,Rxe7,Qc5,b4,Qxe7,Bb2,Nxf3+,Qxf3,Rfe8,h3,Qd7,g4,Red8,Rd1,Ne8,Ba1,Qc6,Nd5,Bxa1', 'Ne7+,Kg7,Nxc6', 'https://lichess.org/training/9b008');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9b0ze', 'Blitz', 'NM ShahxaibKhan', 2282, 'Max05', 2317, 'e4,e6,d4,d5,exd5,exd5,c4,Nf6,Nc3,Bb4,Be2,O-O,Nf3,dxc4,O-O,Bxc3,bxc3,Be6,Bg5,Nbd7,Re1,h6,Bh4,Qc8,Ne5,Nxe5,dxe5,Nd5,Bxc4,Nf4,Bf1,Ng6,Bg3,Rd8,Qh5', 'Bg4,Qxg4,Qxg4', 'https://lichess.org/training/9b0ze');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9b8nR', 'Blitz', 'fortournamentsonly', 2106, 'Nordfar', 2263, 'e4,c5,Nf3,d6,Nc3,Nf6,d4,cxd4,Nxd4,g6,Bd3,Bg7,O-O,O-O,Bg5,Nc6,Nxc6,bxc6,Kh1,Qb6,Rb1,Rb8,f4,Ba6,e5,dxe5,fxe5,Nd5,Nxd5,cxd5,Bxe7,Rfe8,Bf6,Bxd3,cxd3,Qb5,d4,Re6,Qf3,Bxf6,exf6,Rbe8,Qh3,h5,Qh4,Qd3,Rbc1,Qd2,h3,Re2,Rg1,R8e4,Rc8+,Kh7,Qg3,Qxd4,Rf1,Qxb2,Rb8,Qe5,Qa3,Re1', 'Rh8+,Kxh8,Qf8+,Kh7,Qg7#', 'https://lichess.org/training/9b8nR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9B9wk', 'Classical', 'Tu-ra', 1953, 'Luciferpriya', 1886, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,Nxe4,O-O,Nf6,Bg5,O-O,Nd5,Be7,Nxe7+,Qxe7,Re1,Qd6,d5,Ne7,Qd4,Re8,Bxf6,Qxf6,Qxf6,gxf6,Nh4,d6,Re3,Bd7,Rae1,Ng6,Rxe8+,Rxe8,Rxe8+,Bxe8,Nf5,b5,Bd3,Kf8,a3,Ne5,Be4,Nc4,Ne3,Nxb2,Bxh7,Ke7,h4,Bd7,h5,Kf8,h6,Nc4,Nxc4,bxc4,Kf1,f5,Ke2,Ke7,Bg8,Kf6,h7,Kg7,Ke3,f4+,Kxf4,c3,Ke3,c2,Kd2,Bf5,Bxf7,Bxh7,Be8,Kf6,Ba4,Ke5,Bxc2,Bxc2,Kxc2,Kxd5,Kd3,c5,g4,c4+', 'Kc3,Ke5,Kxc4', 'https://lichess.org/training/9B9wk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9BcoU', 'Rapid', 'varenagames', 1671, 'Hussein21a', 1675, 'd4,d5,Bf4,Bf5,Nc3,Nf6,e3,e6,a3,Bd6,Bg5,Nbd7,Nf3,h6,Bh4,c5,Bb5,Be7,dxc5,O-O,Bxd7,Nxd7,Bxe7,Qxe7,b4,a5,O-O,axb4,axb4,Rxa1,Qxa1,Bxc2,Qb2,Bd3,Rd1,Bc4,h3,Qf6,Qd2,Rc8,e4,b6,cxb6,Nxb6,e5,Qe7,Rb1,Nd7,Nb5,Bxb5,Nd4,Bc4,Rc1,Nxe5,Nb5,Rb8,Nd4,Qxb4,Qxb4,Rxb4,f4,Nd3,Ra1,Nxf4,Nf3,Rb2,g4,Rg2+,Kh1,Rg3,Ng1,Nxh3,Kh2,Rxg4,Kxh3,Rd4,Nf3,Rd3,Kg3,e5,Kf2,Rb3,Nxe5,Rb2+,Ke3,Re2+,Kd4,Rd2+,Kc5,Re2,Nc6,Kh7,Na5,h5,Nc6,h4,Nd4,Re4,Rh1,g5,Nf5,Re2,Nd4,Rd2,Nf3,Rc2,Kd6,f6,Ke6,Kg6,Rg1,Rc3,Nxh4+,Kh5,Ng2,Rg3,Rh1+,Kg4,Ne1,f5,Kf6,f4,Rh5,Rh3', 'Rxg5+,Kh4,Ng2#', 'https://lichess.org/training/9BcoU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9BcQj', 'Classical', 'Tintin_41_alt', 1903, 'uvillose414', 1834, 'e4,e5,f4,exf4,Nf3,Nc6,Bc4,h6,d4,Nf6,Nc3,Bb4,Qd3,d5,exd5,Nxd5,Bxd5,Qxd5,Bxf4,Bf5,Qd2,Qe6+,Ne5,O-O-O,O-O,Rxd4,Qe3,Bc5,Nxc6,Rd5,Nxa7+,Kb8,Nxd5,Bxe3+', 'Nxe3,Qb6,Nb5,Qxb5,Nxf5', 'https://lichess.org/training/9BcQj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Bese', 'Blitz', 'Papundek', 2369, 'cantorypoeta', 2357, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,f3,d6,Be3,Nc6,Nge2,a6,h4,h5,Qd2,Rb8,Bh6,b5,Bxg7,Kxg7,O-O-O,bxc4,g4,hxg4,h5,Rh8,h6+,Kh7,f4,Nb4,Ng3,Nd3+,Bxd3,cxd3,e5,Ne8,Nce4,f6,Qxd3,d5,Nc5,c6,Rde1,f5,e6,Nd6,Re5,Rf8,Qe2,Qa5,Kb1,Nc4,Nb3,Qb4,Re3,a5,Rc3,Ba6,Rxc4,Bxc4,Qe5,Rg8,Nxf5,a4', 'Qg7+,Rxg7,hxg7+,Kg8,Rh8#', 'https://lichess.org/training/9Bese');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9bHhs', 'Rapid', 'WCM kosmys', 1911, 'ValhallaTemplar', 1806, 'd4,e6,Nf3,Nc6,Bg5,Nf6,e3,h6,Bh4,g5,Bg3,h5,h4,g4,Ne5,Nxe5,Bxe5,d6,Bb5+,c6,Bxf6,Qxf6,Ba4,e5,Nc3,g3,f3,d5,Nxd5,Qd6,Nc3,Bh6,Ne4,Qb4+,c3,Qxb2,Nd6+,Kd7,Nxf7', 'Qf2#', 'https://lichess.org/training/9bHhs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9BiJJ', 'Rapid', 'LVJJvl', 2110, 'Yasman999', 2130, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,e6,Nf3,Bb4,cxd5,Nxd5,Bb5+,Nc6,O-O,Nxc3,bxc3,Bxc3,Rb1,O-O,Bxc6,bxc6,Ba3,Re8,Bc5,Ba6,Qc2,Bxf1,Kxf1,Ba5,Ne5,Qd5,Rb7,f6,Nf7,Rab8,Nh6+,gxh6', 'Qxh7#', 'https://lichess.org/training/9BiJJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9BiwS', 'Classical', 'Rrivero', 1766, 'Edwin_Moreira', 1707, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nf3,d6,Nc3,Nf6,h3,Be6,Bb5,Qd7,O-O,Bxh3,gxh3,Qxh3,Nh2,O-O-O,Qf3,Qh4,Be3,Ne5,Qg3', 'Qxg3+,fxg3,Bxe3+', 'https://lichess.org/training/9BiwS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9bjdR', 'Rapid', 'LateHatch', 2063, 'JoyfulCrown', 2067, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bf5,Bb5+,Nc6,O-O,a6,Be2,e6,Re1,Bd6,c3,h6,Nbd2,Nf6,Bf1,O-O,Nb3,Qc7,h3,Rac8,c4,dxc4,Bxc4,Nb4,Bf1,Nc2,Bd2,Nxa1,Qxa1,Rfd8,Ba5,b6,Bd2,Bf4,Bxa6,Bxd2,Nbxd2,Ra8,Bb5,Qb7,a4,Rd5,Qd1,Rad8,Qb3,Qc7,Nc4,Be4,Ncd2,Bxf3,Nxf3,Qf4,g3,Qf5,Kg2,Rc8,Bd3,Qh5,g4,Nxg4,hxg4,Qxg4+,Kf1,Qxf3', 'Bh7+,Kxh7,Qxf3', 'https://lichess.org/training/9bjdR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9BnST', 'Rapid', 'rocato', 1973, 'sumanlop', 2144, 'd4,Nf6,c4,e6,Nf3,b6,e3,Bb7,Be2,d5,O-O,Nbd7,Nc3,Bd6,Qc2,O-O,e4,dxe4,Ng5,h6,Ngxe4,Nxe4,Nxe4,Nf6,Bf3,Nxe4,Bxe4,Bxe4,Qxe4,Qf6,Be3,Rac8,c5,bxc5,dxc5,Be5,Rab1,Bxb2,Qb7,Bd4,Bxd4,Qxd4,Rfc1,Qa4,c6,Qxa2,Ra1,Qd2,Qxa7,Ra8,Qxc7,Rfc8,Qd7,Qc3', 'Qxc8+,Rxc8,Rxc3', 'https://lichess.org/training/9BnST');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9BNVO', 'Rapid', 'shiva23', 2229, 'sheshengy', 2122, 'e4,e5,Nf3,Nf6,d4,Nxe4,Bd3,d5,Nxe5,Bd6,O-O,O-O,Re1,f5,f4,Nc6,c3,Re8,Nd2,Be6,Ndf3,a6,Nxc6,bxc6,Ne5,c5,Be3,Qh4,Bxe4,Bxe5,dxe5,fxe4,g3,Qe7,b3,Rad8,Qc2,Bf5,Qf2,Qe6,Bxc5,h6,b4,Bg4,a4,Bf3,Reb1,c6,b5,axb5,axb5,cxb5,Rxb5,h5,Bd6,Qg4,Rxd5,e3,Qa2,Kh8,Rd3,e2,Re1,h4,Kf2,Be4,Re3,Rxd6,Rxe4,Rd3,Re3,hxg3+,hxg3,Rxe3', 'Rh1+,Qh5,Rxh5#', 'https://lichess.org/training/9BNVO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9bP7J', 'Rapid', 'mmous', 1767, 'Madad', 1949, 'd4,d5,c4,dxc4,Nc3,Bd7,a4,c6,e4,b5,Nf3,e6,Be2,Nf6,e5,Nd5,O-O,Nxc3,bxc3,Be7,Qc2,O-O,Nd2,Be8,Ne4,Nd7,Bf4,Nb6,axb5,cxb5,Qd2,Nd5,Bg3,a6,f4,g6,Bf2,Bc6,Ng3,Re8,Be3,Nxe3,Qxe3,Qd5,Bf3,Qd7,Ne4,a5,Rfb1,Reb8,Ng3,Bxf3,Qxf3,b4,cxb4,Qxd4+,Kh1,Bxb4,Ne4,c3,Nf6+,Kg7,Qh3,Qxf4,Qxh7+,Kf8,Qg8+,Ke7,Qg7,c2,Rc1,Bc3,Rxc2,Bxa1', 'Rc7+,Kd8,Rd7+,Kc8,Qh8#', 'https://lichess.org/training/9bP7J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9BpSj', 'Blitz', 'mahmod58', 1713, 'EbiGusey', 1690, 'e4,c5,Nf3,d6,Bc4,e6,O-O,a6,d4,cxd4,Nxd4,Nf6,Bg5,Be7,Nc3,O-O,Bd3,Nbd7,Bxf6,Bxf6,Nde2,Nc5,a4,b6,b4,Nxd3,Qxd3,Qc7,Ra3,Bb7,Nf4,Rac8,Nfe2,Rfd8,Qg3,Qc4,b5,a5,h4,Bxe4,Nxe4,Qxe4,Re3,Qxa4,Re1,Qxb5,Nf4,Rxc2,h5,h6,Nxe6,fxe6,Rxe6,Rc6', 'Re8+,Rxe8,Rxe8+,Kf7,Qg6#', 'https://lichess.org/training/9BpSj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9bQ92', 'Rapid', 'pushckor', 1752, 'FrancoisMarais', 1768, 'd4,e6,Bf4,f5,c3,Nf6,e3,Be7,Bd3,O-O,Nd2,d6,h3,b6,g4,Bb7,f3,Nd5,Qe2,Nxf4,exf4,Bh4+,Kd1,c5,g5,Nc6,Rh2,cxd4,Rg2,Qe8,Kc2,e5,fxe5,dxe5,Rf1,Rc8,Nc4,Qf7,Nd6,Qxa2', 'Bc4+,Kh8,Bxa2', 'https://lichess.org/training/9bQ92');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9BUJ5', 'Rapid', 'moparto', 1983, 'andrea45', 1921, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,e3,Be7,Bd3,dxc4,Bxc4,b5,Bb3,a5,O-O,O-O,a4,b4,Ne2,Ba6,Bc2,c5,b3,Nc6,Bb2,h6,Re1,cxd4,Nexd4,Nxd4,Nxd4,Rc8,Rc1,Nd5,Qf3,Nc3,Qg4,Bf6,Bxc3,Rxc3,Qe4,g6,Nxe6,fxe6,Qxe6+,Kg7,Qxa6,Qd2,Red1', 'Rxc2,Rxd2,Rxc1+', 'https://lichess.org/training/9BUJ5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9bVU6', 'Rapid', 'ckgdmm', 1695, 'sarahzeidan8771', 1697, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,Nf6,Nf3,Nc6,Bf4,Bf5,e3,Nb4,Qa4+,Nc6,Ne5,Qb6,Nxc6,bxc6,Nd1,e6,a3,Nh5,Rc1,Rc8,Ba6,Nxf4,Bxc8', 'Nd3+,Kd2,Nxc1', 'https://lichess.org/training/9bVU6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9BWOg', 'Rapid', 'gcnavia', 1998, 'Amolina91', 1961, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bg5,Be7,Bd3,h6,Bh4,O-O,O-O,Bg4,c3,Nbd7,Bc2,c5,Bxf6,Nxf6,dxc5,Bxc5,Qd3,Qb6,Ne5,Be6,Nd2,Rfe8,Nb3,Bd6,Nf3,Bg4,Rab1,Qc7,Nbd4,Bxf3,Nxf3,Bc5,a3,Qf4,Rbe1,Ne4,Qxd5,Bxf2+,Rxf2,Nxf2,Rxe8+,Rxe8,Kxf2,Qe3+,Kg3,g5,Qd3,Qf4+,Kf2,g4,Qh7+,Kf8,Qh8+,Ke7,Qe5+,Qxe5,Nxe5,Rd8,Ke2,h5,Bb3,f5,Ng6+,Kf6,Nf4,Ke5,Nd3+,Kf6,Nc5,b6,Nd3,Kg5,Ne5', 'Re8,Kd2,Rxe5', 'https://lichess.org/training/9BWOg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9BwoV', 'Rapid', 'HANG_LOOSE', 1632, 'lanetica', 1648, 'd4,d5,c4,Nf6,Nc3,Bf5,cxd5,Nxd5,Qb3,Nxc3,bxc3,b6,d5,e6,c4,exd5,cxd5,Be4', 'Qa4+,c6,Qxe4+', 'https://lichess.org/training/9BwoV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9bX8Y', 'Blitz', 'BloodyFox', 2083, 'DESCAFEINAO', 2128, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Nc3,Nc6,Be3,Nf6,Bc4,Qa5,f3,Qb4,Nxc6,dxc6,Qd3,O-O,O-O-O,b5,Bb3,Qa5,e5,Bf5,Qe2,Nd5,Nxd5,cxd5,Rxd5,Be6,Rxb5,Qc7,Bxe6,fxe6,f4,Bh6,g3,Qc6,Rd1,Rfc8,Rb3,Qa4,Kb1,a5,Qb5,Qe4,Qd3,Qg2,Qd2,Qe4,Qd3,Qg2,Bg1,a4,Rc3,Rcb8,Qd7,Kf7,Rc7,Rxb2+,Kxb2,Rb8+,Ka1,Re8,Bc5,Qf3,Rd3,Qf1+,Kb2,a3+,Kxa3,Qc1+,Kb3,Rb8+,Bb4', 'Qb1+,Ka3,Qxb4#', 'https://lichess.org/training/9bX8Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Bx9i', 'Blitz', 'FM thestench', 2216, 'joseluis_atienza1113', 2204, 'd4,c5,Bf4,cxd4,Bxb8,Rxb8,Qxd4,a6,e4,Nf6,e5,Ng8,Nc3,b5,Nf3,Bb7,Ne4,Qc7,Qe3,Qxc2,Rc1,Qxe4,Qxe4,Bxe4,Rc7,Bxf3,gxf3,Kd8,Ra7,a5,Rxa5,e6,a3,b4,Be2,bxa3,bxa3,Rb1+,Bd1,Ra1,Ra8+,Ke7,O-O,g6,f4,Bg7,a4,Nh6,Rxh8,Bxh8,Bb3,Rxf1+,Kxf1,d6,a5,dxe5', 'a6,exf4,a7', 'https://lichess.org/training/9Bx9i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9bxOR', 'Blitz', 'Outis86', 1927, 'faridd76', 1961, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,O-O,a3,Bxc3+,Qxc3,d5,Bg5,c5,e3,Nbd7,Nf3,Qb6,Be2,Ne4,Qc2,h6,Bf4,f6,O-O,a5,h3,a4,cxd5,exd5,dxc5,Ndxc5,Nd2,Bf5,Nxe4,Nxe4,Bd3,Rac8,Qe2,Rfe8,Rac1,Qe6,Rfe1,Nc5,Bxf5,Qxf5,Qb5,Nd3,Rxc8,Rxc8,Rf1,Nxf4,exf4,Qxf4,Qxd5+,Kh7,Qxb7,Rb8,Qa6,Rxb2,Qd3+,f5,Rb1', 'Qxf2+,Kh2,Qxg2#', 'https://lichess.org/training/9bxOR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Bxye', 'Rapid', 'Warwickstar', 1816, 'abdo700', 1972, 'e4,c5,c3,d5,exd5,Qxd5,d4,e5,dxe5,Qxe5+,Qe2,Nc6,Nf3,Qxe2+,Bxe2,Nf6,O-O,Bd6,Bb5,O-O,Bxc6,bxc6,Na3,Re8,Nc4,Bc7,Be3,Ba6,b3,Nd5,Bxc5,Nxc3,Rfe1,Bxc4,bxc4,a5,Kf1,Rxe1+,Kxe1,Re8+,Kd2', 'Ne4+,Ke2,Nxc5+', 'https://lichess.org/training/9Bxye');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9bYT6', 'Rapid', 'BlitzK1ng', 1921, 'spassky66', 1903, 'd4,d5,e4,c6,Nc3,e6,e5,Bb4,Bd2,Ne7,Nce2,Bxd2+,Qxd2,Nd7,Nf3,b5,Ng3,Nb6,c3,Nc4,Bxc4,bxc4,Ng5,Nf5,Nxf5,exf5,O-O,h6,Nh3,Qh4,Nf4,g5', 'g3,Qxf4,gxf4', 'https://lichess.org/training/9bYT6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9BZtV', 'Classical', 'orkun_tek', 1663, 'Zartroox', 1609, 'c4,b6,Nc3,Bb7,Nf3,h6,g3,e6,Bg2,d6,O-O,Nd7,d3,Ne7,Be3,a6,Qc2,g6,a3,Bg7,b4,d5,c5,d4,Nxd4,Bxg2,Kxg2,bxc5,bxc5,Nxc5,Nb3,Nxb3,Qxb3,O-O,Rac1,Rb8,Qa4,Rb2,Qxa6,Bxc3,Rxc3,Rxe2,d4,Nf5,Qxe2,Qd5+,Qf3,Qa5,g4', 'Nh4+,Kg3,Nxf3', 'https://lichess.org/training/9BZtV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9bzWX', 'Classical', 'pedrinholopes', 2024, 'savvyd', 2086, 'e4,e6,Qe2,c5,a3,Nc6,b4,Nd4,Qd1,a6,c3,Nc6,bxc5,Bxc5,d4,Ba7,a4,Nge7,Qg4,Qa5,Bd2,b5,Qxg7,Rg8,Qxh7,Bb7,Nf3,O-O-O,Qxf7,Rdf8,Qh5,Rh8,Qg5,Rhg8,Qe3,b4,cxb4,Qb6,a5,Qc7,b5,axb5,a6,Ba8,Nc3,Nd5,Nxd5,exd5,e5,Rxf3,gxf3', 'Bxd4,Qf4,Bxa1', 'https://lichess.org/training/9bzWX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9C0T9', 'Classical', 'URSUS_Sme', 1746, 'CogitoErgrobSum', 1678, 'e4,e6,d4,d5,Nc3,Bb4,e5,Bxc3+,bxc3,Ne7,Qg4,O-O,Bh6,Nf5,Bd2,Qh4,Qe2,Nc6,g3,Qd8,h4,f6,g4,Nh6,exf6,Nf7,fxg7,Kxg7,g5,e5,Nf3,exd4,Nxd4,Re8,Be3,Nce5,O-O-O,Bg4,f3,Bc8,h5,Nxg5,Rg1,h6,f4,Nc4,fxg5,Qd6,gxh6+,Kh7,Qg2', 'Qa3+,Kb1,Qb2#', 'https://lichess.org/training/9C0T9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9C0Xc', 'Rapid', 'audi-razborka', 1754, 'Zune', 1891, 'e4,e6,Nc3,d5,exd5,exd5,d4,c6,Nf3,Nf6,Bg5,Bb4,Be2,Bxc3+,bxc3,O-O,O-O,h6,Bh4,Bf5,Bd3,Bxd3,cxd3,Nbd7,Ne5,Nb6,Rb1,Re8,f4,Rb8,Ng4,Re6,f5,Rd6,Nxf6+,gxf6,Bg3,Qe7,Bxd6,Qxd6,Qh5,Kg7,Rf3,Rh8,Rg3+,Kf8,Qg4,Ke7,Re1+,Kd7,Qg7,Re8,Qxf7+,Re7,Rxe7+,Qxe7,Qxe7+,Kxe7,Rg6,Kf7,Rxh6,Na4,c4,dxc4,dxc4,Nb2,c5,b6,cxb6,axb6,Rg6,Nc4,h4,Ne3,Rg4,Nxg4,Kf1,Ke7,Ke2,Kd6,Kf3,Nh6,Kf4,Kd5,g4,Kxd4,g5,fxg5+', 'hxg5,Ng8,f6', 'https://lichess.org/training/9C0Xc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9C90j', 'Rapid', 'jethwa1234', 1738, 'Tastelose', 1684, 'e4,e5,Bc4,Nc6,Nf3,Nf6,Nc3,Bc5,d3,b6,Bg5,Bb7,Nd5,Be7,Nxe7,Qxe7,O-O,O-O,Re1,Rad8,Bd5,h6,Bh4,Rfe8,Bxc6,dxc6,a3,c5,b4,c4,Re3,cxd3,cxd3,Qe6,Rc1,g5,Bg3,Bxe4,Rc3,Qf5,Nd2,Bxd3,Rf3,Qg6,Rxc7,Be4,Rfc3,Nd5,R7c6,Nxc3,Rxg6+,fxg6', 'Qb3+,Bd5,Qxc3', 'https://lichess.org/training/9C90j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9CCtX', 'Blitz', 'AegonT', 1548, 'iShurik', 1546, 'g3,d5,Bg2,e5,d4,e4,c4,c6,cxd5,cxd5,Nc3,Nc6,Nh3,h6,Nf4,Nf6,Qb3,Bb4,Qa4,Bd7,O-O,Nxd4,Qxb4,Nc2,Qxb7,Nxa1,Nfxd5,Nxd5,Nxd5,O-O,Bxe4,Rc8,Be3,Nc2,Bxa7,Bc6,Ne7+,Kh8,Nxc6,Rxc6,Bxc6,Nd4,Bxd4,Qxd4,Qe7,Kg8,b3,Qb2,Qa7,Qxe2,Bd5,Qd2,Bc4,Qb2,Rd1,Qf6,Rd7,Qg6,a4,Qb1+,Kg2,Qe4+,Kg1,Qe1+,Kg2,Qe4+,f3,Qc2+,Kh3,Qf5+,g4', 'Qxf3+,Kh4,g5+,Kh5,Qh3#', 'https://lichess.org/training/9CCtX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9CEkr', 'Rapid', 'baian', 1824, 'zumbel', 1706, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,exd6,exd6,Nc3,g6,Nf3,Bg7,Bd3,Bg4,O-O,Bxd4,Re1+,Be5,Bf4,N8d7,h3,Bxf3,Qxf3,c6,Bh6,Qf6,Qxf6,Nxf6,f4,O-O-O,fxe5,dxe5,Rad1,Kb8,Bg7,Nh5,Bxh8,Rxh8,Rxe5,Nf4,b3,Nd7,Bxg6,Nxe5,Bf5,Rg8,Rd2', 'Nf3+,Kf2,Nxd2', 'https://lichess.org/training/9CEkr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9cfS8', 'Blitz', 'hamedvatankhah1', 2000, 'Rafail94', 2056, 'e4,c5,Nf3,Nc6,Bb5,Qc7,Bxc6,Qxc6,Nc3,e6,O-O,d6,d4,cxd4,Nxd4,Qb6,a4,Nf6,a5,Qd8,Ndb5,Be7,f4,O-O,e5,dxe5,fxe5,Nd5,Nxd5,exd5,c3,a6,Nd4,Bc5,Qh5,Bxd4+,cxd4,Qd7,h3,Qe6,Bg5,Qg6,Qh4,Bf5,g4,h6,Bxh6,Qxh6,Qxh6,gxh6,Rxf5,Rac8,Raf1,Rc2,e6,Re2,exf7+,Kg7,h4,Rxb2,g5,h5,g6,Rd2,Rxh5,Rxd4,Rg5,Rxh4,Kg2,Rh6,Rxd5,Rxg6+,Kh3', 'Rh8+,Rh5,Rxh5#', 'https://lichess.org/training/9cfS8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9CfUB', 'Rapid', 'pollitopou', 1825, 'sandrom', 1835, 'e4,c5,Nc3,Nc6,Bb5,a6,Bxc6,bxc6,f4,Qc7,d3,e6,Nf3,h6,O-O,d5,Qe1,Ne7,e5,Nf5,b3,a5,Bb2,d4,Ne4,Ne3,Rf2,a4,Ba3,axb3,axb3,Qa5,Re2,Qxe1+,Nxe1,Ra5,g3,Be7,Ng2,Nxg2,Kxg2,g5,fxg5,hxg5,Ree1,Bb7,Bxc5,Rxa1', 'Rxa1,Bxc5,Nxc5', 'https://lichess.org/training/9CfUB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9ChVG', 'Blitz', 'Voyager2', 1702, 'IkaPakao', 1648, 'd4,Nf6,e3,e6,Nf3,b6,Bd3,d5,O-O,Bb7,Qe2,c5,dxc5,Bxc5,c3,Nbd7,Nbd2,O-O,Rd1,Rc8,e4,dxe4,Nxe4,Nxe4,Bxe4,Bxe4,Qxe4,Nf6,Qe2,Qc7,Bg5,Be7,Ne5,h6,Bh4,Rfd8,Bg3,Bd6,Ng4,Nxg4,Qxg4,Bxg3,Rxd8+,Rxd8,fxg3,Rd2,Qe4,Qc5+,Kh1,Qf2,b3,Rxa2,Rd1,Rd2,Re1,Rb2,b4,Rc2,c4,Rxc4,Qa8+,Kh7,Rd1,Rxb4,Qxa7,Qe2,Rg1,Qf2,h3,Rb2,Qb7,b5,Kh2,b4,Qb5,b3,Qd3+,Qf5,Qc3,Qc2,Qf3,f6,Qe3,e5,g4,Rb1,Rxb1,Qxb1,Qc3,b2,h4,Qc1,Qd3+,Kg8,Qd8+,Kh7,Qd3+,Kg8,Qd8+,Kf7,Qd7+,Kg6,h5+,Kg5', 'Qf5+,Kh4,g3#', 'https://lichess.org/training/9ChVG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9cLIu', 'Blitz', 'CM Bierpower', 2364, 'NM Matthew-Fishbein', 2431, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,c3,Nge7,Bc4,O-O,O-O,d6,a4,Ne5,Be2,Be6,b4,Bxd4,Bxd4,Qh4,f3,N7g6,Nd2,Nf4,Bf2,Qg5,Bg3,h5,Rf2,Nfd3,Bxd3,Nxd3,Re2,h4,Bf2,Nf4,Be3,Nxe2+,Qxe2,Qg6,f4,f5,e5,dxe5,fxe5,f4,Bd4,Bd5,Nf3,h3,Kh1,hxg2+,Qxg2,Qh5,Rf1,g5,h3,Rf7,Qg4,Qxg4,hxg4,Rh7+,Kg2,Kf7,Kf2,Bxf3,Kxf3,Rh3+,Ke4,Ke6,b5,Rd8,Re1,Rdh8,a5,Rg3,b6,axb6,axb6,cxb6,Bxb6,Rhh3,Bd4,Rxc3,Bxc3,Rxc3,Rb1,Rg3,Rb6+,Kf7,Kf5,Ke8,Rxb7,f3,Ke6,f2', 'Rb8#', 'https://lichess.org/training/9cLIu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9cNsl', 'Classical', 'chanti4chess', 1828, 'surgery16', 1796, 'e4,c5,Bc4,e6,Nc3,a6,d3,Nc6,Nf3,b5,Bb3,d6,O-O,Bb7,a3,Nf6,Ne2,Qc7,c4,Na5,cxb5,Nxb3,Qxb3,Qb6,Nc3,d5,a4,dxe4,dxe4,Nxe4,Nxe4,Bxe4,Ne5,Bd6,Nc4,Qc7,b6,Bxh2+,Kh1,Qb8,a5,Bd5,Qa4+,Ke7,Ne3,Rd8,Qh4+,f6,Qxh2,Qb7,Qxh7', 'Rh8,Qxh8,Rxh8+', 'https://lichess.org/training/9cNsl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9cnu3', 'Rapid', 'moteconhuesillo2006', 1838, 'OleksandrTheGreat', 1985, 'e4,c5,c3,d5,exd5,Qxd5,d4,cxd4,Nf3,Nc6,Na3,Bg4,Be2,O-O-O,cxd4,Nxd4,Nxd4,Bxe2,Qxe2,Qxd4,O-O,e6,Be3,Qa4,Rfc1+,Kb8,Nb5,a6,Bb6,Re8,Qe5+,Ka8,Nc7+,Kb8,Nxa6+,Ka8,Qb8+,Rxb8', 'Nc7#', 'https://lichess.org/training/9cnu3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9CoKX', 'Blitz', 'Adrian-Llanos', 2161, 'Chizzers435', 1939, 'd4,d5,Nf3,c6,c4,Nf6,Nc3,e6,Bg5,Be7,e3,O-O,cxd5,exd5,Qc2,Ne4,Bxe7,Qxe7,Bd3,f5,Ne5,Nd7,f4,Nxe5,dxe5,Qh4+,g3,Qh3,O-O-O,Be6,Bxe4,dxe4,Rd6,Rfe8,Rhd1,h5,Na4,b6,b3,Bd5,Nc3,h4,Nxd5,cxd5,Qd2,hxg3,hxg3,Qxg3,Qxd5+,Kf8,Qd4,Qf2,Rd2,Rac8+,Kb2,Qe1,Ka3,Qc1+,Ka4,Rc5,b4,Rc4,Qd5,Qc3,a3,a5,Rd7', 'Rxb4+,axb4,Qxb4#', 'https://lichess.org/training/9CoKX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9CPaO', 'Rapid', 'Lopezic', 1776, 'Workout07', 1769, 'e4,c5,Nf3,g6,Bc4,Bg7,d3,e6,Nc3,Ne7,Bg5,O-O,Qd2,a6,h4,b5,Bb3,f6,Bf4,d5,exd5,Nxd5,h5,g5,Bxb8,Rxb8,h6,Bh8,Bxd5,exd5,O-O-O,d4,Ne4,Qd5,Nfxg5,fxg5,Nxg5,Bf6,f4,Bxg5,fxg5,Be6,Rhf1,Qxa2,c3,Qa1+,Kc2,Bb3+,Kxb3', 'Qa4#', 'https://lichess.org/training/9CPaO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9cRDa', 'Blitz', 'Mr-Pink', 1710, 'mpopovic', 1732, 'd4,Nf6,Nc3,d6,e4,g6,Bg5,Bg7,Qd2,h6,Be3,Ng4,O-O-O,Nxe3,fxe3,Nc6,h4,Bg4,Be2,Bxe2,Ngxe2,Qd7,Rhf1,O-O,h5,Nb4,hxg6,fxg6,Nf4,Kh7,Rh1,Nc6,Rdg1,e5,Nfe2,Qg4,Qe1,exd4,Rh4,Qg5,Nd5,dxe3,Nxc7,Rac8,Ne6,Qe5,Nxf8+,Rxf8,c3,Nb4,Qg3,Qc5,Rd1,Nxa2+,Kb1,Nxc3+,bxc3,Bxc3,Nxc3,Qxc3,Qxd6,Qb3+,Kc1', 'Rc8+,Qc7+,Rxc7#', 'https://lichess.org/training/9cRDa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9CTah', 'Blitz', 'Holly66', 1753, 'PrawdziwyByk', 1703, 'e4,c5,Nf3,e6,d4,d5,exd5,exd5,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Nf6,Re1+,Be7,dxc5,Nc6,Nc3,d4,Ne4,O-O-O,Bf4,Nxe4,Rxe4,Bxc5,a3,h5,b4,Bb6,Rc1,h4,h3,g5,Bxg5,Rhg8,c3,f6,Bxh4,Qxh3,Bg3,Qh7,Rh4,Qg7,cxd4,Qxg3,fxg3,Rxg3,Kh2,Rdg8,Rc2,Bc7,Kh1,f5,d5,Ne7,d6,Ng6,Rxc7+,Kb8,Rhc4,Nf4,d7,Rh8+,Kg1', 'Rxg2+,Kf1,Rh1+,Ng1,Rhxg1#', 'https://lichess.org/training/9CTah');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9CTVI', 'Blitz', 'Volodia_71', 1860, 'GMaster2874', 2103, 'd4,a6,c4,e6,Nc3,h6,e4,Nf6,Be3,d6,Bd3,Nbd7,Nf3,Be7,O-O,g5,h3,e5,d5,Rg8,Nh2,Nf8,b4,h5,c5,g4,hxg4,hxg4,cxd6,cxd6,b5,Ng6,bxa6,bxa6,f4,gxf3,Nxf3,Nh5,Kf2,Ngf4,Bxf4,Nxf4,g3,Nh3+,Kg2,Bg4,Be2,Rc8,Rc1,Bh5,Qa4+,Kf8,Kxh3,Rc5,Qxa6,Qd7+,Kg2,Qg4,Nh2', 'Qxg3+,Kh1,Qg2#', 'https://lichess.org/training/9CTVI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9CtWO', 'Classical', 'st-yuki', 1865, 'mrchessdogg', 1834, 'e4,Nf6,Nc3,d6,d4,Nc6,Nf3,Bg4,Bb5,a6,Bxc6+,bxc6,O-O,e6,Bg5,Be7,e5,Nd5,Bxe7,Qxe7,Ne4,O-O,Ned2,h6,c4,Nb4,Qa4,Nd3,Qxc6,Nxb2,Rab1,Rfb8', 'Rxb2,Rxb2,Qxa8+', 'https://lichess.org/training/9CtWO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9cu9f', 'Classical', 'Hecjo', 1872, 'diego1234512345-', 1894, 'd4,d5,Nf3,e6,e3,Bd6,c4,dxc4,Bxc4,Nf6,Nc3,b6,O-O,Bb7,h3,O-O,Qe2,Nbd7,Bd2,c5,dxc5,Nxc5,Rfd1,Qe7,Nb5,Rfd8,Nxd6,Rxd6,Bc3,Nce4,Be5,Rxd1+,Rxd1,Rd8,Nd4,Nd5,Bxd5,Bxd5,f3,Nc5,Rc1,Qb7,Nb5,f6,Bc3,a6,Nd4,e5,Nf5,Bxa2,b4,Be6,Nxg7,Qxg7,bxc5,bxc5,Ba5,Rb8,Rxc5,Qe7,Rc1,Qa3,Qd2,Kg7,Rc7+,Kg6,h4,h5,e4,Rb2,Qd8,Qe3+,Kh2,Bf7,Qe7,Qb3,Rc6', 'Qxf3,Qxf6+,Qxf6,Rxf6+,Kxf6', 'https://lichess.org/training/9cu9f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Cv9x', 'Rapid', 'Mrs_toothbrush', 2034, 'emiliooo', 2252, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bd3,c5,c3,Nc6,Ngf3,g6,O-O,Bg7,h4,h6,Bb1,Qb6,Nb3,a5,Nxc5,Nxc5,dxc5,Qxc5,Be3,Qe7,Bd4,g5,Nh2,Bxe5,Ng4,Bxd4,cxd4,h5,Ne5,Nxe5,dxe5,gxh4,Qa4+,Bd7,Qf4,Rg8,Bd3,h3,g3,h4,Rac1,Bc6,Kh2,hxg3+,fxg3,a4,Rc2,a3,b4,Ra4,Bb5,Rxb4,Bxc6+,bxc6,Qf2,Rg5,Rxc6,Rxe5', 'Rc8+,Kd7,Qa7+', 'https://lichess.org/training/9Cv9x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9CvCV', 'Blitz', 'cepn', 1741, 'TRESDEENERO', 1633, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Bc5,c3,d6,d4,Ba7,Re1,exd4,cxd4,Bg4,Bxc6+,bxc6,Nbd2,Qd7,h3,Bh5,Qb3,Bb6,e5,Nd5,Nh2,O-O-O,Nc4,g5,Nxb6+,cxb6,Bxg5,Rdg8,Bh4,Qxh3,Bg3,Qd7,exd6,f5,f4,Bf7,Qd3,Rg7,Qxa6+,Kd8,Qa8+,Qc8,Qxc8+,Kxc8,Bf2,Kd7,g3,Rhg8,Rac1,Nxf4,Nf3,Kxd6,Ne5,Nd3,Rxc6+,Kd5,Rd1,Nxf2,Kxf2,Rxg3,Rc7,Rg2+,Kf3,Bh5+,Kf4,Bxd1', 'Rd7+,Ke6,d5+,Kf6,Rf7#', 'https://lichess.org/training/9CvCV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9CXNX', 'Rapid', 'Alex-Krasnoyarsk', 1690, 'gheass', 1702, 'd4,g6,e4,Bg7,Nf3,d6,c4,Nf6,Nc3,O-O,Bd3,c6,O-O,Bg4,h3,Bxf3,Qxf3,Qb6,Ne2,Nbd7,b3,e5,d5,cxd5,exd5,e4,Bxe4,Nxe4,Qxe4,Bxa1,Bh6,Bg7,Bxg7,Kxg7,g4,Rae8,Qf3,Ne5,Qc3,Kg8,Kg2,Nxg4,Ng3,Ne5,Ne4,f5,Ng5,Qd8,Ne6,Rxe6,dxe6,Qg5+,Kh1,Qh5,c5,Qf3+,Qxf3,Nxf3,e7,Re8,cxd6,Ne5,Rc1,Nc6', 'Rxc6,bxc6,d7,Rxe7,d8=Q+', 'https://lichess.org/training/9CXNX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9CZRp', 'Rapid', 'Manuel6969', 1825, 'maidanaatomas18', 1780, 'Nc3,d5,d4,g6,g3,Bg7,Bg2,c6,e4,dxe4,Bxe4,Qxd4,Qxd4,Bxd4,Bd2,Nf6,Bf3,Bg4,h3,Bxf3,Nxf3,Bb6,Na4,Nbd7,Nxb6,Nxb6,Bc3,Nbd5,Bd2,Ne4,Bc1,O-O-O,a3,f5,c4,Nb6,Ne5,Rhf8,Bh6,Rf6,Bg7,Rfd6,Nf7,Rd1+,Rxd1,Rxd1+,Kxd1,Nxf2+,Ke2,Nxh1,Kf3,e5,Kg2,Nxg3,Kxg3,e4,b3,Nd7,Kf4,Nc5,b4', 'Ne6+,Ke3,Nxg7', 'https://lichess.org/training/9CZRp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9D3Rx', 'Classical', 'jianei', 1812, 'diamante111', 1749, 'Nf3,c5,g3,Nc6,Bg2,d6,O-O,e5,c3,h6,d4,cxd4,cxd4,e4,Ne1,d5,f3,exf3,Nxf3,Be6,Nc3,a6,e4,Nf6,exd5,Nxd5,Qe2,Be7,Nxd5,Bxd5,Ne5,Bxg2,Rxf7,Nxe5,Qxe5,Kxf7,Kxg2,Re8,Qh5+,Kg8,Bxh6,gxh6,Qg6+,Kf8', 'Rf1+,Bf6,Rxf6+,Qxf6,Qxf6+', 'https://lichess.org/training/9D3Rx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9D4RO', 'Rapid', 'ReyNegro1982', 1716, 'matzeeeeee', 1700, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,h6,O-O,Be7,fxe5,Nxe5,Nxe5,dxe5,Bxf7+,Kd7,Qg4+,Kc6,Bd5+,Kb6,Qxg7,Nf6,d3,Nxd5,exd5,Rg8,Be3+,Bc5,Qxh6+,c6,Bxc5+,Kxc5,b4+,Kb6,dxc6,bxc6,Rf6', 'Qd4+,Kh1,Qxa1', 'https://lichess.org/training/9D4RO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9D5AP', 'Rapid', 'OscarFreire', 1715, 'Staline1998', 1736, 'e4,Nc6,d4,d5,Nf3,dxe4,Ng5,Qxd4,Qxd4,Nxd4,Na3,Bf5,Be3,Ne6,O-O-O,Nxg5,Bxg5,e6,Nb5,Bd6,Rxd6,cxd6,Nc7+,Kd7,Nxa8,Nf6,Bb5+,Kc8,Rd1,d5,Bf4,Nh5,Bd6,Rd8,Be5,f6,Bc7,Rf8,Bd6,Rf7,Nc7,a6,Ba4,b5,Bb3,Rd7,Bg3,Nxg3,Nxa6,Ne2+,Kb1,Nf4,Nc5,Rc7,Na6,Rc6,Nb4,Rc7,a4,bxa4,Bxa4,Nxg2,b3,h5,c4,dxc4,Nc6,cxb3', 'Rd8+,Kb7,Rb8+,Ka6,Bb5#', 'https://lichess.org/training/9D5AP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9d5eq', 'Classical', 'altsub', 2110, 'acham', 1909, 'e4,b6,d4,Bb7,Nc3,e6,Be3,Bb4,f3,Nf6,a3,Bxc3+,bxc3,a5,Nh3,h6,Nf2,Qc8,c4,Ba6,e5,Nh7,Ne4,O-O,Qd2,c6,Bd3,Qd8,Bxh6,Qh4+,g3,Qxh6,f4,f6,O-O-O,fxe5,dxe5,c5,Nd6,Nc6,c3,g5,Rdf1,Ne7,f5,Nxf5,Nxf5,exf5,h4,Bb7,Rh2,Be4,Bxe4,fxe4,Qd5+,Kh8,Rxf8+,Rxf8,Qxe4,g4+,Kc2,Qh5,Rd2,Rf7,Kb2,Re7,Rd5,Qf7,Qxg4,Qf2+,Kc1,Nf6', 'exf6,Re1+,Rd1', 'https://lichess.org/training/9d5eq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9d8st', 'Rapid', 'satiagordz', 1958, 'Dearrebel', 1975, 'b3,c6,e3,d5,d4,Bf5,Bb2,e6,c4,Nf6,Nf3,Ne4,a3,Nd7,Bd3,Be7,O-O,Bd6,Nc3,Bb8,Nd2,Qc7,f4,Ndf6,Ndxe4,dxe4,Be2,h5,d5,g5,dxe6,fxe6,Nb5,Qg7,Nd6+,Bxd6,Qxd6,gxf4,Rxf4,Rd8,Qe5,Rg8,Bf1,Rd2,Rxf5', 'Rxg2+,Kh1,Rg1#', 'https://lichess.org/training/9d8st');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Dcj2', 'Rapid', 'zouzousar3a', 1814, 'Whittlings', 1846, 'e4,e5,Nf3,Nf6,Nxe5,Nxe4,d3,Qe7,dxe4,Qxe5,Nc3,Bb4,Qf3,Bxc3+,Qxc3,Qxc3+,bxc3,O-O,Bc4,c6,Bf4,Re8,f3,d5,Bb3,dxe4,Kf2,exf3,Kxf3,b5,c4,bxc4,Bxc4,c5', 'Bd5,Bd7,Bxa8', 'https://lichess.org/training/9Dcj2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9dcwy', 'Rapid', 'Yuuso', 1649, 'Didoets1from1Tsebary', 1617, 'Nf3,d6,g3,e5,e4,f6,Bg2,d5,d3,dxe4,dxe4,Qxd1+,Kxd1,Bg4,h3,Bxf3+,Bxf3,Nc6,Be3,O-O-O+,Nd2,Bb4,c3,Bd6,Kc2,a6,Rad1,Nge7,Bg4+,Kb8,f4,exf4,gxf4,h5,Be6,g6,Nc4,Nc8,Bxc8,Kxc8,Nxd6+,Rxd6,Rxd6,cxd6,Rd1,Kc7,h4,Na5,Bd4,Rf8,b4,Nc4,Kb3,b5,Rg1,Nd2+,Kc2,Nxe4,Rxg6,f5,Rh6,Ng3,Bf2,Ne2,Be3,Ng3,Rh7+,Kc6,Bf2,Ne2,Be3,Ng3,Kd3,Rg8,Bf2,Kd5,Bxg3,Rxg3+,Kc2,Rg4,Rxh5,Rxf4,Kb3,Ke4,a4,Rg4,a5', 'f4,Rh7,f3', 'https://lichess.org/training/9dcwy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9dDOs', 'Rapid', 'Ainz-Ooal-Gown', 2335, 'Spassky_CXC', 2055, 'd4,f5,g3,Nf6,Bg2,g6,Nf3,Bg7,b3,O-O,Bb2,d6,O-O,c6,Nbd2,a5,Re1,Na6,c4,Qc7,a3,Nh5,e3,e5,dxe5,dxe5,Qc2,e4,Bxg7,Qxg7,Nd4,Nc5,Bf1,Ne6,Nxe6,Bxe6,c5,Rad8,Nc4,Bxc4,Bxc4+,Kh8,Rad1,g5,Rd6,Rxd6,cxd6,Qe5,Rd1,Rd8,Qd2,Ng7,d7,Ne6,Bxe6,Qxe6,g4,Kg8,Qxa5,Rxd7,Rxd7,Qxd7,Qxf5,Qxf5,gxf5,Kf7,h4,g4,Kg2,Kf6,Kg3,Kxf5,a4,c5,a5,h5,Kh2,Ke5,Kg2,Kf5,Kf1,Ke5,Ke2,Kf5,Ke1', 'g3,fxg3,Kg4', 'https://lichess.org/training/9dDOs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9DHpF', 'Classical', 'TigorToba', 1929, 'Burn_It_Down', 2146, 'e3,c5,d3,g6,Ne2,Bg7,h3,Nc6,g3,d5,Bg2,e5,a3,Nge7,Nd2,Be6,b3,Qd7,Bb2,b5,Nc1,a5,c4,bxc4,bxc4,Rb8,Qc2,O-O,g4,Rxb2,Qxb2,e4,Qa2,exd3,Nxd3,dxc4,Nxc5,c3,Nxe6,cxd2+,Qxd2,Qxd2+,Kxd2,fxe6,Rac1', 'Rxf2+,Kd1,Rxg2', 'https://lichess.org/training/9DHpF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9di8s', 'Rapid', 'vishu1234', 1979, 'Cureton', 1997, 'e4,c5,f4,e6,Nf3,d5,e5,Nc6,Bb5,Bd7,O-O,Nh6,Nc3,Be7,Ne2,a6,Bxc6,Bxc6,d4,cxd4,Nexd4,Bc5,c3,O-O,Kh1,f6,Nxe6,Qe7,Nxf8,Rxf8,Nd4,fxe5,fxe5,Rxf1+,Qxf1,Ng4,e6,Qh4,Qf7+,Kh8,Bf4,Nf2+,Kg1,Nh3+,gxh3,Qxh3,e7,Qg4+,Bg3,Bxd4+,cxd4,Qxd4+,Bf2,Qg4+,Kf1', 'Bb5+,Ke1,Qe2#', 'https://lichess.org/training/9di8s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9DLud', 'Blitz', 'drpepper12', 1702, 'camilaagettee1678988', 1643, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,a6,d4,exd4,cxd4,Bb4+,Nc3,Bxc3+,bxc3,b5,Bb3,h6,O-O,Nge7,h3,O-O,Nd2,Na5,Ba3,Nxb3,Nxb3,d6,e5,dxe5,Bxe7,Qxe7,dxe5,Qxe5,Re1,Qg5,Qf3,Be6,Nd4,Rfe8,Nxe6,fxe6,Rxe6,Rad8,Rc6,Rc8,Rd1,Qe5,Rd7,Rcd8,Qf7+,Kh8', 'Rxh6+,gxh6,Qh7#', 'https://lichess.org/training/9DLud');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9dLY1', 'Rapid', 'manatplay', 2120, 'destructor55', 2094, 'e4,c5,d4,cxd4,c3,e6,cxd4,d5,e5,Nc6,Nf3,Qb6,Nc3,Nge7,Na4,Qc7,Bd3,Nf5,Bxf5,exf5,O-O,Be7,Bf4,O-O,Rc1,h6,h4,Qd8,h5,f6,Qd2,fxe5,Nxe5,Nxe5,dxe5,b6,Nc3,Ba6,Rfd1,d4,Qxd4,Qe8,Nd5,Bc5,Qc3,Rc8,Qh3,Be2,Re1,Bg4,Qb3,Kh8,e6,Qxh5,e7,Rfe8,Be5,Qg5,Bf4,Qg6,Rc3,a5,Rg3,h5,Kf1,h4,Rd3,Qc6,f3,Bh5,Bg5,Bf7,Qd1,Qb5,Re2,Rc6,Bxh4,Qc4,Bg5,Rd6,b3,Qb5,a4,Qc6,Re5,Bg6,Qe1,f4,Rd1,Bf7,Nxf4,Rxd1,Qxd1,Qc7,Re2,Bxe7,Nd5,Bxd5,Qxd5,Rd8,Rxe7,Qxe7', 'Qxd8+,Qxd8,Bxd8', 'https://lichess.org/training/9dLY1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9dMHl', 'Classical', 'drreal33', 2007, 'Star_Hipnos', 2098, 'd4,Nc6,e4,e5,d5,Nce7,c4,Ng6,Nc3,Bb4,Qc2,Nf6,Bd3,O-O,Ne2,d6,a3,Bc5,b4,Bb6,Na4,Bxf2+,Kxf2,Ng4+,Ke1,Qh4+,g3,Qh3,Ng1,Qh5,Be2,f5,h3,fxe4,Qxe4,Nf6,Bxh5,Nxe4,Ne2,Nf2,Rh2,Nxh3,Bxg6,hxg6,Nac3,g5,Be3,g4,c5,Bd7,Kd2,Rf7,Ne4,Bf5,Ng5,Rf6,Nxh3,gxh3,Rf1,Raf8,Ng1,Be4,Rxf6,Rxf6,Nxh3,Bxd5,Ng5,b6,cxb6,cxb6,Rf2,Rh6,a4,Rh1,a5,Rb1,axb6,axb6,Bxb6,Rxb4,Bc7,Rg4,Rf5,g6,Rf6,Rxg5,Bxd6,Bg2,Re6,e4,Bf4,Rd5+,Ke2,Bf3+,Ke1,Kf7,Rd6,Ra5,Rb6,Ra2,Be5,e3', 'Rf6+,Kg8,Rxf3', 'https://lichess.org/training/9dMHl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9dOdq', 'Blitz', 'Galbar', 1604, 'Mehrshabi', 1586, 'd4,e6,Bf4,d5,e3,c5,Nf3,cxd4,exd4,Nc6,c3,Nf6,Bd3,Bd6,Ne5,O-O,Nd2,Qc7,Qe2,Ne4,O-O,Nxe5,dxe5,Bxe5,Bxe5,Qxe5,Nxe4,dxe4,Bxe4,f5,Bd3,Qf6,Bc4,Kh8,Rfe1,Re8,Rad1,b6,Rd6,Qg5,f3,e5,Qd3,f4,Qd5,Bh3,Re2,Rac8,Bb3,Rc5,Qf7,Rcc8,Kh1,Rf8,Qd5,Rc5,Qb7,Bc8,Qxa7,Qf5,Rd1,Rf6,a4,Rh6,a5,Qh5,h3,Bxh3,Qb8+,Rc8', 'Rd8+,Rxd8,Qxd8+,Qe8,Qxe8#', 'https://lichess.org/training/9dOdq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9dp3N', 'Blitz', 'neo1122', 1758, 'sxaxram', 1725, 'd4,d5,Bf4,Nc6,Nf3,Bd7,e3,g6,Bd3,Bg7,c3,e6,Qc2,Nge7,Nbd2,O-O,h4,h5,g4,hxg4,Ne5,Nxe5,Bxe5,Nf5,h5,g5,Bxg7,Kxg7,Bxf5,exf5,Nb3,Qe7,Nc5,Bc8,O-O-O,b6,Nd3,c5,Ne5,cxd4,exd4,Be6,h6+,Kh7,Nxg4,Rac8,Ne5,b5,a3,a5,Rdg1,Rc7,f4,b4,fxg5,bxc3,bxc3,Qxa3+,Kd1,Rxc3,g6+,fxg6,Qg2,Qc1+,Ke2,Qc2+,Kf1,Qxg2+,Rxg2,Rc1+,Ke2,Rxh1,Rxg6,Re8,Kf3,Rh3+,Kf4,Rh4+,Kg5,Rxd4', 'Rg7+,Kh8,Ng6#', 'https://lichess.org/training/9dp3N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9DRrg', 'Blitz', 'vlado691', 2128, 'Glasauge72', 2189, 'e4,e6,f4,d5,e5,c5,Nf3,Nc6,d3,Nh6,c3,Nf5,Na3,Be7,Nc2,h5,Be2,Qb6,O-O,Bd7,Rb1,h4,Ne3,g6,Nxf5,gxf5,Be3,Qc7,a3,O-O-O,b4,d4,cxd4,cxd4,Nxd4,Kb8,Nf3,Rdg8,d4,Nd8,Rc1,Qb6,Qd2,Bb5,d5,Qa6,Bxb5,Qxb5,d6,h3,g3,Nc6,dxe7,Nxe7,Rc5,Qa4,Qd6+,Ka8,Qxe7,Qb3,Bc1,Qa2,Ne1,Qe2,Rc2', 'Rxg3+,hxg3,h2+,Kh1,Qxf1#', 'https://lichess.org/training/9DRrg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9DrXb', 'Classical', 'Lunga22', 1874, 'sjs1122', 1804, 'd4,Nf6,Bf4,d5,e3,c5,c3,Nc6,Nd2,Bf5,Qb3,Na5,Qa4+,Bd7,Bb5,e6,Ngf3,a6,Bxd7+,Nxd7,Ne5,b5,Qa3,cxd4,b4,dxc3,Qxc3,Nxe5,Bxe5,Rc8,Qb2,Nc4,Nxc4,Rxc4,Bxg7,Bxb4+,Ke2,Rg8,Rac1,Qa5,Bh6,Ba3,Qe5,Bxc1,Qb8+,Qd8,Qa7,Rxg2,Qxa6,b4,Qb5+,Ke7,Rxc1,Rxc1,Qxb4+,Qd6,Bf8+,Kxf8,Qxd6+,Kg7,Qe5+,Kf8,Qb8+,Ke7,Qb4+,Ke8,Qa4+,Kd8,Kf3,Rcg1,Qa8+,Ke7,Qb7+,Kf6,Qb2+,e5,Qb6+,Kf5,Qh6,Rg6,Qxh7,Kf6,a4,Re1,Qh8+,Kf5,Qh5+,Kf6,Qh4+,Kf5,Qh3+,Kf6,Qh8+,Kf5,Qc8+,Kf6,Qc6+,Kg7,Qxd5,Rf6+,Ke4,Rf1,Qxe5,Rxf2,a5,Kg6,a6', 'Re6,Qxe6+,fxe6', 'https://lichess.org/training/9DrXb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9DTDI', 'Classical', 'petrosianking', 1876, 'mahdi_jamshidi', 2178, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,Be7,O-O,d6,Nc3,Bg4,a3,Nd4,Nd5,Nxd5,Bxd5,c6,Ba2,Bxf3,gxf3,Bg5,c3,Ne6,Kh1,Bxc1,Rxc1,Nf4,Rg1,Qf6,Bb3,a5,d4,O-O,Rc2,a4,Ba2,Rad8,Rd2,c5,d5,c4,Bb1,Kh8,Bc2,g6,Qf1,Kg7,Rg3,h5,Bd1,h4,Rg4,Rh8,h3,Rh5,Kh2,Rdh8,Qg1,Kh6,Be2,Nxe2,Rxe2,Qxf3,Qf1,Qf6,f4,Re8,Rf2,Re7,fxe5,Qxe5+,Kh1,f5,exf5,Qxd5+,Kg1,gxf5,Qc1+,Kh7,Rd4,Rg5+', 'Qxg5,Re1+,Rf1,Rxf1+,Kxf1', 'https://lichess.org/training/9DTDI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9DU8r', 'Rapid', 'ANDREYZ68', 2100, 'paWn-Structure', 1940, 'c4,e6,e4,c5,Nc3,Nc6,Nf3,a6,d4,cxd4,Nxd4,Qc7,Be3,Nf6,Be2,Be7,O-O,O-O,Rc1,Ne5,b3,Ba3,Rc2,Bb4,f4,Ng6,e5,Ne8,Na4,Qd8,c5,Nc7,Nb6,Rb8,Bf3,Nh4,Be4,Na8,Na4,b5,cxb6,Nxb6,Nxb6,Rxb6,Qh5,g6,Qe2,Bb7,Bf2,Bxe4,Qxe4,Nf5,Nxf5,gxf5,Qd3,Rb5,Rc4,Rd5', 'Qg3+,Kh8,Rxb4', 'https://lichess.org/training/9DU8r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9duTR', 'Rapid', 'Vishalt279', 1739, 'ArshiaDaDai', 1792, 'd4,e6,Bf4,d5,e3,Nf6,Nf3,c5,c3,Nc6,Bb5,Bd7,Qa4,Qb6,Na3,a6,Bxc6,Bxc6,Qc2,cxd4,cxd4,Bb4+,Nd2,Qa5,Rd1,O-O,O-O,Ba4,Nb3,Rac8,Qd3,Qb6,Qb1,Ne4,Rc1,Nd2,Nxd2,Bxd2,Rxc8,Rxc8,b3,Bd7,Rd1,Bb4,Nc2,Bd6,Bxd6,Qxd6,Ne1,f6,Nf3,e5,dxe5,fxe5,h3,g6,Rc1,Rxc1+,Qxc1,d4,exd4,exd4,Qc4+,Be6,Qd3,Qa3,Qxd4,Qxa2,b4,Qa4,Qd8+,Kf7,Qc7+,Qd7', 'Ne5+,Ke7,Nxd7', 'https://lichess.org/training/9duTR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9dvfa', 'Blitz', 'valten', 1828, 'easaahmad', 1794, 'e4,e5,Ne2,f5,d3,fxe4,dxe4,Nf6,Nbc3,d6,g3,Bg4,Bg2,Nc6,O-O,Qd7,Bg5,h6,Bxf6,gxf6,Nd5,Bg7,f3,Bh3,Bxh3,Qxh3,Nxc7+,Kd7,Nxa8,Rxa8,Qd5,Rf8,c3,h5,b4,h4,b5,hxg3,Nxg3,Re8,bxc6+,bxc6,Qa5,Bh6,Qxa7+,Ke6,Qa4,Rh8,Qc4+,Kd7,Rab1', 'Be3+,Rf2,Qxh2+,Kf1,Qxf2#', 'https://lichess.org/training/9dvfa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9DVOf', 'Blitz', 'TimoScKreuzberg', 1960, 'Artur19811981', 2071, 'c4,f5,g3,Nf6,Bg2,e6,Nc3,Nc6,Nh3,b6,d4,Bb7,O-O,Bd6,d5,Ne7,dxe6,Bxg2,exd7+,Qxd7,Kxg2,O-O-O,Bf4', 'Qc6+,Kg1,Bxf4,Nxf4,Rxd1', 'https://lichess.org/training/9DVOf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9dzBj', 'Rapid', 'SemK', 1692, 'jviana', 1688, 'e4,c5,c3,g6,d4,cxd4,cxd4,Bg7,Nc3,d6,Bc4,Nf6,Nd5,Nxe4,Qf3,Nf6,Nxf6+,exf6,Bg5,O-O,Bd2,Re8+,Ne2,f5,O-O,Nc6,Bc3,Be6', 'd5,Ne5,Bxe5,Bxe5,dxe6', 'https://lichess.org/training/9dzBj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9DZCH', 'Bullet', 'Capablanca982', 1806, 'Enroquerey', 1714, 'b3,Nf6,Bb2,d6,e3,e5,d4,exd4,exd4,d5,h3,Bf5,Bd3,Bxd3,Qxd3,Bb4+,c3,Bd6,Nf3,Qe7+,Qe2,Qxe2+,Kxe2,O-O,Re1,c6,Nbd2,Bf4,g3,Bxd2,Nxd2,Nbd7,Ba3,Rfe8+,Kf1,Ne4,Nxe4,dxe4,Re3,f5,Rae1,Kf7,f3,exf3', 'Re7+,Rxe7,Rxe7+,Kf6,Rxd7', 'https://lichess.org/training/9DZCH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Dzds', 'Rapid', 'Arsen_Arakelian', 1916, 'alessandro71', 1860, 'e4,c5,f4,Nc6,Nf3,e6,a3,d5,exd5,exd5,Bb5,d4,Ne5,Bd7,Nxd7,Qxd7,O-O,a6,Bc4,Nf6,d3,Be7,Nd2,O-O,Nf3,Ng4,h3,Ne3,Bxe3,dxe3,Ne5,Nxe5,fxe5,Qd4,Qe2,Qxe5,Rf3,Bd6,g3,Qxb2,Raf1,Kh8,Bb3,c4,Bxc4,Bc5,Rxf7,Rxf7,Rxf7,Qc1+,Rf1,Qxa3,Kg2,Qc3,Bb3,a5,Bd5,Rb8,Rf4,b5,Be4,a4,Rh4,g6,Bxg6,Kg7,Bxh7', 'Qd2,Qxd2,exd2', 'https://lichess.org/training/9Dzds');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9E1Dp', 'Rapid', 'edwardsklyaroff', 1816, 'singhprem', 1831, 'e4,g6,d4,Bg7,e5,d6,f4,dxe5,fxe5,Nc6,c3,Bf5,Bd3,Qd7,Bxf5,Qxf5,Qe2,O-O-O,Nf3,Nh6,O-O,Ng4,Nh4,Qh5,g3,g5,Nf5,Ncxe5,Nxg7,Qh3,dxe5,f5,Nxf5,Rhf8,Bxg5,Rxf5,Rxf5,Rd1+,Rf1', 'Rxf1+,Qxf1,Qxh2#', 'https://lichess.org/training/9E1Dp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9e3Eq', 'Bullet', 'sskral', 1807, 'Artur40', 1795, 'd4,Nf6,c4,e6,Nc3,d5,Bf4,a6,e3,Be7,Nf3,O-O,Ne5,Nbd7,Bd3,Nxe5,Bxe5,b6,O-O,Bb7,b3,Rc8,Na4,c5,dxc5,bxc5,Qc2,h6,Be2,Nd7,Bf4,Nb6,Nxb6,Qxb6,Rad1,Rfd8,Bh5,Bf6,Bg4,d4,exd4,Bxd4,Qc1,Kh7,Rd3,e5,Bg3,e4,Rd2,Qf6,Bxc8,Bxc8,Qe1,Re8,Kh1,Bb7,f3,exf3,Qxe8', 'fxg2+,Rxg2,Qxf1#', 'https://lichess.org/training/9e3Eq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9E53I', 'Rapid', 'eeee14', 1713, 'sbtrkt', 1711, 'e4,c5,Bc4,e6,Nc3,Nc6,f4,Nf6,d3,d5,exd5,exd5,Bb5,d4,Qe2+,Be7,Ne4,Qa5+,Bd2,Qxb5', 'Nd6+,Kd8,Nxb5', 'https://lichess.org/training/9E53I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9e7mC', 'Rapid', 'Caligula99', 2204, 'jaybird', 2026, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,dxc4,g3,c5,Qa4+,Nc6,Qxc4,cxd4,Nb5,Bb4+,Bd2,Bxd2+,Kxd2,O-O,Bg2,a6,Na3,Ne4+,Ke1,Nd6,Qd3,Qb6,Rb1,e5,Nc4,Qb4+,Nfd2,Nxc4,Qxc4,Be6,Qxb4,Nxb4,a3,Nd5,Nc4,f6,Nd2,Rac8,Bf3,b5,Kf1,Nb6,Kg2,Rc2,Rhc1,Rfc8,Rxc2,Rxc2,Ne4,Bf5,b3,Bxe4,Bxe4,Rxe2,Bb7,a5,Rc1,Rb2,Rc6,Nd7,Rc7,Nb6,Rc6,Nd7,Rc7,Nb6,Rc5,Rxb3,Rc6,Nc4,Rc5,Nd6', 'Bd5+,Kf8,Bxb3', 'https://lichess.org/training/9e7mC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9e7Ru', 'Blitz', 'GelfandNT1990', 1795, 'jandirjr', 1866, 'e4,e6,Nc3,b6,g3,Bb7,Bg2,Bb4,d3,Qe7,Ne2,d6,O-O,Bxc3,bxc3,Nd7,a4,a5,Be3,O-O-O,d4,h5,h4,f6,f4,Nh6,Qd3,Nf7,Rab1,g5,hxg5,fxg5,Bh3,gxf4,Nxf4,Rdg8,Kf2,Ng5,Bg2,e5,Nd5,Rf8+,Ke2,Qg7,c4,Rxf1,Rxf1,Rf8,Rxf8+,Nxf8,c5,Nfe6,cxb6,Nxd4+,Bxd4,exd4,Nxc7,Qe7,Qc4,Kb8,Kd3,Nxe4,Qxd4,Nc5+,Kc3,Bxg2,Nb5,Bb7,Nxd6,Ne4+,Nxe4,Qxe4,Qd8+,Bc8', 'Qc7+,Ka8,Qxc8#', 'https://lichess.org/training/9e7Ru');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9eAg6', 'Rapid', 'valdiney-f8', 1637, 'Phil1_6', 1642, 'd4,Nf6,c4,g6,Nf3,Bg7,e3,O-O,a3,d6,Qc2,b6,b4,Bb7,Nbd2,Nbd7,Bb2,Re8,Rc1,Rc8,Bd3,e5,d5,e4,Nxe4,Nxe4,Bxe4', 'Bxb2,Qxb2,Rxe4', 'https://lichess.org/training/9eAg6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Ebzh', 'Rapid', 'DerKapitalist', 1602, 'harisonweed', 1621, 'd4,Nf6,c4,e6,e3,d5,Nc3,dxc4,Bxc4,Nc6,Nf3,Bb4,Ne5,Bxc3+,bxc3,Nxe5,dxe5,Ne4,Qxd8+,Kxd8,Bb2,a6,Bd3,Nc5,Bc2,b5,O-O,Bb7,Ba3,Nd7,Rad1,Kc8,f4,c5,g4,h5,g5,f6,gxf6,gxf6,exf6', 'Rg8+,Kf2,Rg2+,Ke1,Rxc2', 'https://lichess.org/training/9Ebzh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Eh5D', 'Rapid', 'mutiks', 1761, 'imranovic', 1833, 'd4,d6,c4,Nf6,Nc3,g6,Nf3,Bg7,e3,Na6,g3,c5,Bg2,cxd4,Nxd4,O-O,O-O,Nd7,a3,Nc7,Rb1,Ne5,Qb3,Rb8,Bd2,a6,Rfd1,Bf5,Nxf5,gxf5,Nd5,b5,Ba5,bxc4,Qc2,Rb7,Nxe7+,Qxe7,Bxb7,Ne6,Bg2,Nc5,Bb4,Ncd3,f4,Nxb4,axb4,Nd3,Rxd3,cxd3,Qxd3,Re8,Kf2,Qa7,b3', 'Rxe3,Qxe3,Bd4', 'https://lichess.org/training/9Eh5D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9ehts', 'Rapid', 'jackalxtremeishere', 1765, 'drleospaceman', 1694, 'e4,d6,f4,Nd7,Bc4,e5,Nf3,Ngf6,O-O,Be7,d4,O-O,fxe5,dxe5,dxe5,Nxe4,e6,fxe6,Bxe6+,Kh8,Qe2,Ndf6,Bb3,Bg4,Be3,Qe8,Qc4,Bd6,Nc3,Bxf3,Rxf3,Nxc3,bxc3,Qe4,Bd4,Qh4,Rh3,Qf4,Rf1,Qe4,Re3,Bxh2+,Kxh2,Ng4+,Kg1', 'Rxf1+,Qxf1,Nxe3', 'https://lichess.org/training/9ehts');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9eJlM', 'Blitz', 'sariklipiyon', 1508, 'Aziim96', 1517, 'e4,e5,Qh5,Nc6,Bc4,g6,Qf3,Nf6,Qb3,Nxe4,Bxf7+,Ke7,d3,Nc5', 'Bg5+,Kd6,Qd5#', 'https://lichess.org/training/9eJlM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9EkOt', 'Rapid', 'Historyman', 1719, 'mdakin', 1664, 'd4,Nf6,c4,g6,Bg5,Bg7,Bxf6,Bxf6,e4,d6,Nc3,O-O,Nf3,Bg4,Be2,a6,e5,Bxf3,exf6,Bxe2,Qxe2,exf6,O-O,Nc6,Nd5,Nxd4,Qd3,c5,Rfe1,Re8', 'Rxe8+,Qxe8,Nxf6+,Kg7,Nxe8+', 'https://lichess.org/training/9EkOt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9emM4', 'Rapid', 'caranic', 1931, 'ilkin872', 1685, 'd4,d5,c4,dxc4,e3,e6,Bxc4,Nc6,Nc3,Nf6,Nf3,Bb4,O-O,O-O,Bd2,Bxc3,Bxc3,Bd7,Qb3,Ne4,Bd3,Nxc3,bxc3,Ne7,Qxb7,Bc6,Qb2,Bxf3,gxf3,Nd5,e4,Nf4,Qd2', 'Qg5+,Kh1,Qg2#', 'https://lichess.org/training/9emM4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9emzk', 'Blitz', 'JeroenOlislagers', 1564, 'zbudil', 1605, 'e4,c5,Nf3,Nc6,Nc3,a6,d4,cxd4,Nxd4,d6,Bd3,e6,O-O,Be7,Nxc6,bxc6,e5,dxe5,Ne4,f5,Ng3,Qb6,Rb1,Nf6,Be3,Qa5,a3,f4,b4,Qc7,Ne4,Nxe4,Bxe4,fxe3,fxe3,Bf6,Qh5+,Ke7,Rf2,h6,Qg6,Qd8,Rxf6,gxf6', 'Qg7+,Kd6,Rd1#', 'https://lichess.org/training/9emzk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Eneq', 'Rapid', 'kaanny', 1966, 'Gambitmat86', 1990, 'd4,Nf6,Nd2,d5,Ngf3,Bf5,e3,e6,c4,c6,Qa4,Be7,Ne5,O-O,Bd3,Ne4,O-O,Nxd2,Bxd2,Bxd3,Nxd3,Nd7,cxd5,exd5,Rac1,Nb6,Qc2,Bd6,b3,Qh4,g3,Qh3,Nf4,Bxf4,exf4,Rfe8,Be3,Re6,f5,Re4,Bf4,Rae8,f6,Qg4', 'f3,Qg6,fxe4', 'https://lichess.org/training/9Eneq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9ENyD', 'Blitz', 'QuantumSquare', 1697, 'Lguja', 1669, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b6,O-O,b5,Bb3,Nf6,Re1,Bc5,h3,d6,c3,Be6,Bc2,Qd7,d4,exd4,cxd4,Bb6,d5,Bxh3,gxh3,Qxh3,dxc6,Ng4,Be3,Bxe3,fxe3', 'Qg3+,Kf1,Qf2#', 'https://lichess.org/training/9ENyD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9ePMQ', 'Rapid', 'thecreator23', 1977, 'CheckmateB4Material', 2095, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,c6,Bg5,dxc4,a4,Bb4,e3,b5,axb5,cxb5,Qc2,Bb7,Be2,Nbd7,O-O,Bxc3,bxc3,O-O,Rfb1,Bc6,Ne5,Qc7,Nxc6,Qxc6,Bf3,Nd5,e4,Nc7,d5,exd5,exd5,Nxd5,Rd1,N7b6,Be3,Rad8,Rxa7,Qf6,Bd4,Qg5,Rb1,Nf4,Bxb6,Rd2,Qe4,Rfd8,Bxd8,Nh3+,Kh1,Nxf2+,Kg1,Nh3+,Kf1', 'Rf2+,Ke1,Qd2#', 'https://lichess.org/training/9ePMQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9erFh', 'Rapid', 'notarealbanana', 1708, 'Olegnik28', 1677, 'e4,e5,Nf3,Nc6,c3,Bc5,d4,exd4,cxd4,Bb6,Nc3,d6,d5,Ne5,Bf4,f6,Nxe5,fxe5,Bxe5,dxe5,Qh5+,g6', 'Qxe5+,Kf8,Qxh8,Qf6,Qxf6+', 'https://lichess.org/training/9erFh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9esa2', 'Rapid', 'mike89', 1621, 'aaa111213', 1791, 'e4,c6,d4,d5,e5,e6,Nf3,Ne7,Nc3,Nd7,Be2,c5,O-O,cxd4,Qxd4,Nf5,Qd1,Bc5,a3,O-O,b4,Be7,Nd4,Nxd4,Qxd4,f6,Bf4,fxe5,Bxe5,Nxe5,Qxe5,Bf6,Qg3,Bh4,Qd3,Bf6,Rad1,a6,h3,Bd7,Bf3,Rc8,Ne2,Ba4,Rc1,Bb2,Rce1,Bxc2,Qd2,Bf6,Nd4,Bxd4,Qxd4,Qf6,Qb6,Bd3,Be2,Bxe2,Rxe2,Rfe8,Qxb7,d4,Qxa6,Ra8,Qd3,e5,Qb3+,Kh8,b5,e4,Rfe1,Rf8,Rf1,Qf5,b6,d3,Rd2', 'e3,Qxd3,exd2', 'https://lichess.org/training/9esa2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9etoI', 'Rapid', 'RodoZECD', 2093, 'luis2345genial', 1989, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,Nxd5,e4,Nxc3,bxc3,c5,Nf3,cxd4,cxd4,Nc6,Be2,Bb4+,Bd2,O-O,O-O,Bxd2,Qxd2,h6,Rfd1,Bd7,Bb5,a6,Ba4,b5,Bb3,Qb6,d5,exd5,Bxd5,Rac8,Rac1,Bg4,Qf4,Bxf3,gxf3,Nd4,Rxc8', 'Ne2+,Kf1,Nxf4', 'https://lichess.org/training/9etoI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9EuRf', 'Blitz', 'xakea123', 2179, 'FM promacherr', 2614, 'd4,Nf6,Nf3,d5,e3,c5,Bd3,Nc6,O-O,Bg4,c3,e6,Nbd2,Bd6,b3,Qc7,Bb2,cxd4,cxd4,Bxh2+,Kh1,Bd6,Rc1,h5,Be2,h4,Ne5,Bxe2,Qxe2,Bxe5,dxe5,Nh5,Nf3,Qe7,e4,d4,Nxd4,Nxd4,Bxd4,Ng3+,fxg3,hxg3+,Kg1', 'Rh1+,Kxh1,Qh4+,Kg1,Qh2#', 'https://lichess.org/training/9EuRf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9EuRw', 'Rapid', 'Vndd_am', 2435, 'emiliooo', 2332, 'd4,Nf6,c4,g6,f3,Bg7,e4,d6,Nc3,O-O,Be3,Nc6,Qd2,e5,d5,Ne7,Bh6,Nd7,g4,a5,h4,Nc5,h5,f5,Bxg7,Kxg7,hxg6,f4,Qh2,Nxg6,Qxh7+,Kf6,Rh6,Qe8,g5+,Kxg5,Nh3+,Bxh3,Bxh3,Rh8', 'Rh5+,Kf6,Rf5#', 'https://lichess.org/training/9EuRw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9eVfs', 'Rapid', 'kmitch92', 1887, 'Alex-Kenpachi', 1903, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,d6,c3,Bd7,d4,exd4,cxd4,Bb6,d5,Ne5,Bxd7+,Nxd7,Bg5,f6,Bh4,Ne7,a4,a6,b4,Ng6,Bg3,O-O,Qd3,Nde5,Nxe5,fxe5,Nd2,Nf4,Qb3,Ne2+,Kh1,Nxg3+,fxg3,Qg5,Nf3,Qf6,a5,Ba7,b5,axb5,Qxb5,b6,a6,Rac8,Qc6,Qf7,Rfb1,b5,Rxb5,Bb6,a7,Ra8,Rxb6,cxb6,Qxb6,Qd7,Kg1,Qd8,Qc6,Rf7,h4,Rfxa7,Rxa7,Rxa7,Kh2,Rc7,Qb6,Rc8,Qb7,Rb8,Qc6,Rb6,Qa4,h6,Qa7,Rb4,Qe3,Qf6,Qc3,Rxe4,Qc8+,Kh7,Qd7,Re2,Qg4,Rb2,h5,Qf7,Kh3,Rb1', 'Qe4+,Kg8,Qxb1', 'https://lichess.org/training/9eVfs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9EwQT', 'Classical', 'Rafeek149', 1736, 'AArAv01', 1687, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Nxe4,Bxf7+,Kxf7,Nxe4,d5,Neg5+,Ke8,d4,e4,Ne5,Nxe5,dxe5,Be7,Qh5+,g6,Qh6,Bf5,Nxh7,Kf7,Ng5+,Bxg5,Qxg5,Qxg5,Bxg5,Rh5,h4,Rah8,O-O-O,Bg4,Rxd5,Rxg5', 'e6+,Bxe6,Rxg5', 'https://lichess.org/training/9EwQT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9ex4i', 'Classical', 'Diegogalvez', 1721, 'PepsiKick', 1659, 'e4,e6,d3,d5,Nd2,Nf6,Ngf3,dxe4,dxe4,Bc5,Bc4,O-O,O-O,Nc6,e5,Ng4,Qe2,Bb6,h3,Nh6,Ne4,Nf5,Bg5,f6,Rad1,Qe7,exf6,gxf6,Bc1,Bd7,g4,Nfd4,Nxd4,Nxd4,Qd3,Rad8,Bh6,Rf7,Ng3,Bc6,Ne4,f5,gxf5,exf5,Qg3+,Kh8,Bxf7', 'Ne2+,Kh2,Nxg3', 'https://lichess.org/training/9ex4i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9EyCK', 'Rapid', 'nipunabuddika', 1970, 'BoKemp', 2017, 'e4,c6,g3,d5,Bg2,dxe4,Bxe4,Nf6,Bg2,Bf5,Nf3,e6,O-O,Be7,d3,O-O,Be3,Nbd7,Nc3,Nd5,Nxd5,exd5,Nd4,Bg6,Nf3,Bf6,d4,Re8,Qd2,Nb6,b3,Nc8,Rac1,Nd6,Ne1,Ne4,Bxe4,Bxe4,f3,Bg6,Ng2,h6,Nf4,Bh7,Nh5,Be7,Bxh6,gxh6', 'Qxh6,Bf8,Nf6+,Qxf6,Qxf6', 'https://lichess.org/training/9EyCK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9f0c8', 'Classical', 'andrushka2', 1952, 'Vadym2005', 1726, 'd4,d5,c4,e6,Nc3,b6,Nf3,Bb7,e3,Nf6,Bd2,Nbd7,Qa4,Be7,cxd5,exd5,Qc2,O-O,h4,c5,h5,h6,Bd3,Bd6,e4,Re8,e5,cxd4,Nxd4,Nxe5,Kf1,Nxd3,Qxd3,Bc5,Nf5,Ne4,Nxe4,dxe4,Qc3,f6,Qg3,Bf8', 'Nxh6+,Kh8,Nf7+', 'https://lichess.org/training/9f0c8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9F3DN', 'Blitz', 'noesanchezhernandez', 1675, 'NM robertoyepez', 2333, 'd4,Nf6,c4,c5,d5,b5,b3,d6,Bb2,bxc4,bxc4,Nbd7,Nc3,g6,Rb1,Bg7,Nf3,O-O,e4,Rb8,Qc2,Rxb2,Rxb2,Ng4,Rb1,Qa5,Rb3,h5,h3,Nge5,Nxe5,Nxe5,Be2,Ba6,O-O,Nxc4,Nb1,Ne5,Bxa6,Qxa6,Nd2,c4,Rc3,g5,Nxc4,Nxc4,Rxc4,Be5,Rc1,Kg7,Ra4,Qb6,Qb3,Bd4,Qxb6,Bxb6,Rc6,Kf6,Rac4,Ke5,Kf1,f5,f3,fxe4,Rxe4+,Kxd5,Rcc4,e5,Ke2,Ke6,Kd3', 'd5,Rc6+,Kd7,Rg6,dxe4+', 'https://lichess.org/training/9F3DN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9FakN', 'Rapid', 'TANGIER', 1905, 'Omar_Elawady', 1833, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,a3,a5,d3,d6,h3,O-O,Be3,Bxe3,fxe3,h6,O-O,Be6,Nd5,Bxd5,exd5,Ne7,Nh2,Nexd5,Qf3,c6,e4,Nf4,Ng4,b5,Ba2,N6h5,Ne3,Qg5,Nf5,Rad8,Kh2,Kh7,h4,Qf6,g3,g6,Ne3,Qe7,gxf4,Qxh4+,Qh3,Qf6,f5,Nf4,fxg6+,fxg6,Qf3', 'Qh4+,Kg1,Nh3+', 'https://lichess.org/training/9FakN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Fbrl', 'Rapid', 'Ds044088', 1782, 'GaMa107', 1765, 'e4,c5,f4,e6,Nf3,Nc6,Bb5,d5,exd5,exd5,O-O,a6,Re1+,Be7,Bxc6+,bxc6,Ne5,Bd7,Qh5,g6,Qf3,f6,Nd3,f5,Nxc5,Nf6,d4,O-O,Nc3,Bxc5,dxc5,Ne4,Nxe4,fxe4,Qb3,Qa5,Be3,Rab8,Qc3,Qb5,Qe5,Qxb2', 'Bd4,Qxd4+,Qxd4', 'https://lichess.org/training/9Fbrl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9FCls', 'Rapid', 'captnharry', 1871, 'mjcn90', 1948, 'c4,c5,Nc3,Nc6,e4,d6,d3,e5,Be2,Nge7,Nf3,g6,O-O,Bg7,Ne1,Nd4,Nc2,Nxc2,Qxc2,Nc6,Nd5,Nd4,Qd1,Be6,Be3,Nxe2+,Qxe2,Bxd5,exd5,O-O,Rab1,a5,f4,f5,fxe5,Bxe5,Qd2,Qh4,Bf4,Rae8,g3,Qh5,Rbe1,Rf7,Re3', 'Bd4,Kg2,Bxe3', 'https://lichess.org/training/9FCls');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9fEXO', 'Rapid', 'Mhamishi', 1803, 'Orette-Golding', 1657, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Bc5,h3,Nxf2,Qd5,Nxh1,Qxc5,Ng3,e4,Na6,Qa3,Nxe4,Bd3,Nac5,b4,Nxd3+,Qxd3,f5,Nc3,Nxc3', 'Bg5,Qxg5,Nxg5', 'https://lichess.org/training/9fEXO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9fFnr', 'Rapid', 'paujos', 1799, 'essmigel', 1781, 'd4,Nf6,Nf3,d5,e3,Bg4,Nbd2,Ne4,Bd3,Nxd2,Bxd2,a6,O-O,Nc6,a3,e5,e4,exd4,exd5,Qxd5,Re1+,Be7,c4,Bxf3,Qxf3,Qxf3,gxf3,O-O-O,Be4,Ne5', 'Bf5+,Kb8,Rxe5', 'https://lichess.org/training/9fFnr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9fH5t', 'Blitz', 'landis1101', 1901, 'omaskii', 1911, 'e4,e5,d4,Nc6,d5,Nb8,Nf3,d6,Bb5+,Bd7,Be2,Nf6,Nc3,Be7,O-O,c6,Bg5,h6,Bxf6,Bxf6,Rc1,O-O,dxc6,Nxc6,Qxd6,Be6,Qxd8,Raxd8,Rfd1,Nd4,Nxd4,exd4,Nd5,Bxd5,exd5,Rxd5,Bf3,Rd7,c3,d3,Rd2,Bg5,Rcd1,Bxd2,Rxd2,Re8,Kf1,f5,g4,g6,gxf5,gxf5,c4,Red8,Bd5+,Kg7,Rxd3,Kf6,Ke2,Ke5,Re3+,Kd4,Rd3+,Kc5,a3,Re7+,Kd2,a6,b4+,Kb6,f4,Rg7,Re3,Rg1,Re6+,Ka7,Re7,Rb8,Kc2,Rf1,Rh7,Rf2+,Kb3,Rxh2,Rf7,h5,Rxf5,h4,Rh5,Rh3+,Ka4,b5+,cxb5', 'axb5+,Ka5,Rxa3#', 'https://lichess.org/training/9fH5t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9FhWB', 'Classical', 'halfmanhalfknight', 1996, 'Luggerrr', 1976, 'd3,d5,Nd2,e5,e4,Nf6,h3,Nc6,c3,Bd6,Be2,Be6,Qc2,Qd7,Ngf3,h6,a4,a5,Nf1,O-O,Ng3,Ne7,Bd2,c6,Qc1,b5,Bxh6,gxh6,Qxh6,Ng6,Ng5,Rfc8,Nh5,Nxh5,Qh7+,Kf8,Bxh5,Ke7,Bxg6', 'Rh8,Bxf7,Rxh7', 'https://lichess.org/training/9FhWB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9FIHP', 'Blitz', 'DrMBchess', 1693, 'Kudinman', 1813, 'd4,d5,Bf4,g6,e3,Bg7,Nf3,Nf6,h3,O-O,Be2,c6,Nbd2,Bf5,c3,Be4,O-O,a6,Nxe4,Nxe4,Nd2,Nxd2,Qxd2,Nd7,Bf3,Nf6,Bh2,h6,Rfe1,Nh7,e4,Ng5,Bd1,Nxe4,Qe2,e6,Bc2,f5,f3,Nf6,Qxe6+,Kh8,Qe2,Qd7,Qd2,Rae8,Be5,Nh5,f4,Bxe5,fxe5,Kg7,Qf2,f4,Qf3,Ng3,Qg4,Nf5,Re2,h5,Qxf4,Qf7,Qg5,Qe6,Rf1,Rf7,Ref2,Ref8,g4,Ng3,Rxf7+,Rxf7,Rxf7+,Qxf7,gxh5', 'Qf1+,Kh2,Qf2#', 'https://lichess.org/training/9FIHP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9FJHL', 'Rapid', 'ullah212', 2331, 'alex-russia', 2225, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d5,exd5,Nxd5,O-O,Bg4,Nc3,Nxc3,bxc3,Qd7,Re1,O-O-O,Qe2,f6,h3,Be6,Bxe6,Qxe6,Nd4,Nxd4,cxd4,Rxd4,Be3,Rh4,Qf3,e4,Qg3,g5,f3,Bd6,Qf2,b6,fxe4,Bf4,a4,Qe5,Bxf4,Rxf4,Qe2,g4,hxg4,Rg8,g5,Rxg5,a5,Rfg4,axb6,Rxg2+,Qxg2,Rxg2+,Kxg2,axb6,Kf3,h5,Rac1,h4,Rg1,Qh5+,Ke3,h3,Rh1,h2,Rce1,Qh3+,Kd2,Qg2+,Kc3,Kd7,Rhf1,Ke6,Kd4,c5+,Kc3,b5,Rb1,b4+,Kb3,Qd2,Kb2,Ke5,Rh1,Kd4,Rbc1,Qc3+,Kb1,Qd2,Kb2,Qc3+,Kb1,Ke3,Rhe1+,Kd4,Rh1,Qd2,Rcd1,Qg2,Kb2,Ke3,Rde1+,Kd4,Kb3,Qd2,Kb2,Qc3+,Kb1,c4,dxc4,Kxc4,Rd1,b3,Rxh2,bxc2+', 'Rxc2,Kb3,Rxc3+', 'https://lichess.org/training/9FJHL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9FkuD', 'Classical', 'sameerjoshi09', 1673, 'Cindrella123', 1997, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,d5,exd5,Nxd5,Bxd5,Qxd5,Nc3,Qd8,Qe2,Bd6,O-O,Bg4,Re1,Nd4,Qe4,Nxf3+,gxf3,Bh3,f4,f6,fxe5,fxe5,d4,O-O,dxe5,Re8,Bf4,Bxe5,Bxe5,Qg5+,Kh1,Rxe5,Rg1,Qf6,Qxb7,Rae8,Qb3+,Be6,Qa4,Bd5+,Nxd5', 'Qf3+,Rg2,Re1+,Rxe1,Rxe1#', 'https://lichess.org/training/9FkuD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9flQe', 'Rapid', 'Kreteningen', 1899, 'Boyko_Igor', 1865, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nf6,Bc4,e6,Ne5,Bd6,Nxg6,hxg6,b3,Qc7,Qe2,Nbd7,Bb2,O-O-O,O-O-O,b5,Bd3,Bf4+,Kb1,Nb6,c3,Nfd5,Qf3,b4,cxb4,Nxb4,Be4,f5,Bxc6,Qxc6,Qxf4,Qc2+,Ka1,Nd3,Rd2', 'Qxb2+,Rxb2,Nxf4', 'https://lichess.org/training/9flQe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9fplX', 'Rapid', 'volk591', 2037, 'Tilukeisari', 2002, 'e4,d6,d4,Nf6,Bd3,c6,h3,Nbd7,Nf3,e5,c3,Be7,O-O,O-O,Nbd2,Re8,Re1,Qc7,Nb3,a5,a4,b6,Bg5,Bb7,Rc1,Nf8,dxe5,dxe5,Qe2,Ne6,Be3,Rad8,Rcd1,Bc8,Nfd2,Bd7,Nc4,Nf4,Bxf4,exf4,e5,Nd5,Bb1,b5,axb5,cxb5,Nd6,Bxd6,exd6,Rxe2,dxc7,Rxe1+,Rxe1,Nxc7,Nxa5,Be6,Nc6,Rd2,b4,Nd5,Bf5,Nxc3,Bxe6,fxe6,Rxe6,Kf7,Re7+,Kf6,Rb7,Rd6,Na7,g5,Rxh7,Rd1+,Kh2,Rb1,Nc6,Nd5,Rb7,Nxb4', 'Rxb5,Nxc6,Rxb1', 'https://lichess.org/training/9fplX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9frdL', 'Blitz', 'aleitbg', 1770, 'LarsItak', 1789, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Qb6,Nb3,Qb4,f3,Bxc3+,bxc3,Qa3,Bc4,Qb2,Bd2,Nf6,O-O,O-O,Kh1,Qa3,Be3,Ne5,Be2,d6,h3,Nh5,Qe1,Qa4,Nd4,Nc4,Bh6,Re8,f4,Qa5,f5,Ne3,Bxh5,Nxf1,Qf2,Qxc3,Rxf1,gxh5,Qh4,Qxd4,Qg5+,Kh8,f6,Rg8', 'Bg7+,Rxg7,Qxg7#', 'https://lichess.org/training/9frdL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9frNS', 'Rapid', 'oas', 1667, 'Neo54763', 1694, 'e4,e5,Nf3,b6,h3,Bb7,d3,d6,c4,Nd7,Be2,Ngf6,b4,Be7,b5,c5,a4,a5,Nc3,Qc7,Nd5,Nxd5,exd5,h6,O-O,O-O-O,Bd2,Kb8,Qb3,Rdf8,Ne1,Rhg8,Nc2,Bc8,Ne3,g6,Bg4,Nf6,Bxc8,Qxc8,Qd1,h5,Re1,Nh7,d4,f5,dxc5,dxc5,Nf1,f4,Rxe5,Bd6,Bc3,Bxe5,Bxe5+,Kb7,Qe2,Qe8,Qe4,Rf5,d6+,Ka7,Re1,Nf6,Bxf6,Qxe4,Rxe4,Rxf6,Re7+,Kb8,d7,Rd6', 'Re8+,Kc7,Rxg8', 'https://lichess.org/training/9frNS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9fs0J', 'Rapid', 'EtHerk', 1771, 'ChessAtNight', 1773, 'd4,d5,Bf4,Nf6,e3,e6,h3,a6,Bd3,b6,c3,Bb7,Nf3,Nbd7,Nbd2,Ne4,Bc2,Be7,Bh2,O-O,O-O,c5,Re1,Rc8,a3,Ndf6,Ne5,cxd4,exd4,b5,f3,Nd6,Nb3,Qb6,Nc5,Rfd8,Nxb7,Qxb7,Qd2,Qb6,Rab1,Nc4,Qe2,Bd6,f4,Nxe5,fxe5,Be7,exf6,Bxf6,Be5,Be7,Qh5,h6,Qg4,Bf8,Rf1,Qb7,Qe2,Qd7,Qd3,f5,Rbe1,Be7,Qg3,Bg5,h4,Bd2,Re2,f4,Qxg7+,Qxg7,Bxg7,Kxg7,Rxd2,Rf8,Rdf2,Rc7,Rxf4,Rxf4,Rxf4,h5,Bd1,Kg6,Bc2+,Kg7,Kh2,Re7,g4,e5,Rf5,e4,Rxh5,e3,Re5', 'Rxe5,dxe5,e2,Kg2,e1=Q', 'https://lichess.org/training/9fs0J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Fs2U', 'Rapid', 'Flyne_Elaske', 1759, 'jerumes-unconscious', 1758, 'd4,Nf6,Bf4,d5,e3,Bf5,Nd2,e6,c3,Bd6,Bg3,Nc6,Ngf3,h6,Nh4,Bh7,f4,g5,Nhf3,Ne4,Nxe4,Bxe4,Bd3,f5,O-O,Bxf3,Qxf3,g4,Qf2,h5,Bh4,Be7,Bxe7,Qxe7,a3,h4,h3,gxh3,gxh3,O-O-O,Rac1,Rdg8+,Kh2,Rg3,Rg1,Rhg8,c4,dxc4,Bxc4,Nd8,d5,e5', 'd6,Qxd6,Bxg8', 'https://lichess.org/training/9Fs2U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9fsI2', 'Blitz', 'Beware_of_Horse', 1537, 'heiseb01', 1539, 'e4,c5,Nf3,Nc6,d3,g6,Be3,b6,Be2,Bg7,O-O,Bxb2,Nbd2,Bxa1,Qxa1,Nf6,Nc4,O-O,Bc1,d6,Qc3,Bg4,Bb2,Nd4,Qd2,Nxe2+,Qxe2,d5,e5,Nd7,Ncd2,d4,h3,Be6,a3,a5,c3,dxc3,Bxc3,b5,Ng5,Qb6,Kh1,b4,axb4,cxb4,Bb2,a4,d4,a3,Ba1,b3,Bc3,b2,Rb1,Bf5,Nde4,Rfb8,g4,Bxe4+,Kh2,Bxb1,Qf3,f6,exf6,exf6,Qd5+,Kg7,Qf7+,Kh6', 'Qxh7+,Kxg5,Bd2#', 'https://lichess.org/training/9fsI2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9fufj', 'Rapid', 'knightdropatc7', 1767, 'Domass', 1618, 'e4,e6,d4,d5,Nd2,c5,Bb5+,Bd7,Bxd7+,Qxd7,c3,Nc6,e5,cxd4,cxd4,Nge7,Ngf3,Nf5,Nb3,Bb4+,Bd2,Bxd2+,Qxd2,O-O,O-O,a5,Nc5,Qc7,a3,b6,Nb3,a4,Nc1,Qa7,Ne2,b5,Rac1,Na5,Rc5,Rab8,Qb4,Rb7,Rxb5,Rxb5,Qxb5,Nc4,Rb1,Rb8,Qc6,Qb7,Qxa4,Qe7,b4,h5,Qb3,h4,a4,g5,h3,Kg7,b5,Kg6,Qb4,Qb7,a5,Kh5,b6,Qa6,Qb5,Qa8,Ra1,g4,hxg4+,Kxg4,Nc3,h3,Nh2+,Kh4,g3+,Kh5,g4+,Kh4,gxf5,Rg8+,Kh1,Rg2,b7,Qg8,Nf3+,Kh5,b8=Q', 'Rh2+,Nxh2,Qg2#', 'https://lichess.org/training/9fufj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9fVIv', 'Blitz', 'NITINK786', 1632, 'miki1956', 1576, 'e4,e5,Nf3,d6,h3,Nc6,Nc3,h6,Bb5,Bd7,d3,Nf6,a3,Nd4,Bxd7+,Qxd7,Be3,c5,Nd5,Nxd5,exd5,O-O-O,c4,f5,Bxd4,exd4,Qb3,Re8+,Kd2,g5,Rhe1,g4,Rxe8+,Qxe8,Re1,Qd7,hxg4,fxg4,Nh4,Be7,Ng6,Bg5+,Kc2,Rg8,Re6,Qf7,Kb1,Rxg6,Re2,Rf6,Qb5,Qd7,Re8+,Kc7', 'Qa5+,b6,Qxa7#', 'https://lichess.org/training/9fVIv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9FwAC', 'Blitz', 'Antonella-95', 1770, 'parsamanesh', 1655, 'd4,d5,c4,dxc4,Nf3,Bg4,Ne5,Be6,Qa4+,c6,e4,Qxd4,Nf3,Qxe4+,Be2,b5,Qa5,Nd7,Nc3,Qg6,O-O,Bg4,Qc7,Qd6,Qa5,e6,Bg5,Be7,Rfd1,Qc5,Qc7,Rd8,Bxe7,Nxe7,Ne4,Qb6,Qf4,Bxf3', 'Nd6+,Kf8,Qxf7#', 'https://lichess.org/training/9FwAC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9fx3f', 'Rapid', 'Taron_Shagbaz', 1954, 'ASiza', 1639, 'd4,d6,e4,a6,f3,b5,Be3,g6,Bd3,Bb7,c3,Bg7,Ne2,Nf6,O-O,O-O,Nd2,Nbd7,Rc1,c5,c4,b4,d5,a5,b3,e6,Nf4,exd5,exd5,Ne5,Be2,Nfd7,Ne4,Nf6,Nxf6+,Bxf6,Nd3,Bc8,Nxe5,Bxe5,f4,Bg7,Bd3,Bd7,f5,Qc8,f6,Re8,Qf3,Bg4,Qg3,Bh8,Rce1,Bd7,Qxd6,Ra6,Qxc5,Qd8,Bd4,Qb8,Rxe8+,Qxe8,Qe7', 'Qxe7,fxe7,Bxd4+', 'https://lichess.org/training/9fx3f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9FxX2', 'Classical', 'marja_liisa', 1887, 'HemnRoj', 1890, 'e4,e5,Nf3,Nc6,Nc3,Nf6,d4,exd4,Nd5,Nxd5,exd5,Nb8,Qxd4,d6,Bb5+,c6,dxc6', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/9FxX2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9fyRD', 'Rapid', 'Essijaan', 1768, 'Agonistes', 1621, 'e4,d5,exd5,Nf6,d4,Nxd5,c4,Nf6,Nc3,Bf5,Nf3,e6,Bg5,Be7,Qb3,O-O,Be2,Ne4,Bxe7,Qxe7,Qxb7,Nxc3,bxc3,Nd7,Qxc7,Rfc8,Qb7,Rcb8,Qc7,Rb2,Ne5,Qa3,Qxd7,Qxc3+,Kf1,Rc2,Qxf7+,Kh8,Re1,Rc1,Nf3,Bd3,Bxd3,Qxd3+,Kg1,Qe2,Qxe6', 'Rxe1+,Nxe1,Qxe6', 'https://lichess.org/training/9fyRD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9G1RF', 'Rapid', 'RBCheney', 1806, 'maicon92', 1803, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,d5,exd5,Qxd5,Nf3,g6,Nc3,Qa5,Bd2,Bg7,d5,Nb4,Bb5+,Kd8,O-O,Nf6,a3,Nbxd5,Nxd5,Qxb5,Nxf6,Bxf6', 'Ba5+,Ke8,Qd8#', 'https://lichess.org/training/9G1RF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9GaMx', 'Blitz', 'borocov', 1944, 'KAPITAN0810', 2046, 'e4,e5,Nf3,d6,d4,Bg4,dxe5,Nc6,Be2,Bxf3,Bxf3,Nxe5,O-O,Nxf3+,Qxf3,Nf6,Bg5,Be7,Nc3,O-O,Rad1,Nd7,Bf4,Bf6,Rfe1,Bxc3,Qxc3,Qe7,e5,Nxe5,Bxe5,dxe5,Rxe5,Qf6,Rde1,c6,Qb4,b5,h3,Rad8,Qc5,Rd2', 'Qxf8+,Kxf8,Re8#', 'https://lichess.org/training/9GaMx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Gf0t', 'Blitz', 'IM halfnatty', 2545, 'proksimacentavra', 2375, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Qc7,f4,d6,Be3,Nf6,Qf3,a6,O-O-O,Be7,Rg1,Bd7,g4,Nxd4,Rxd4,Bc6,g5,Nd7,Rd1,b5,Bh3,b4,Ne2,Qb7,Ng3,Rc8,Kb1,a5,f5,Ne5,Qe2,Bd7,Nh5,Bf8,fxe6,Bxe6,Bxe6,fxe6,Nf4,Rc4,Bd4,Qc8,g6,h6,Bxe5,dxe5,Nd3,Bd6,Rgf1,Rf8,Rxf8+,Kxf8,Rf1+,Kg8,Qf3,Qe8,Qg4,a4,Rf7,b3,axb3,axb3,cxb3,Rd4,Qf3,Be7,Nxe5,Bf6,Rxf6,gxf6,Qxf6,Rxe4,Nc4,Re1+,Kc2,Rg1,Kc3,Rxg6,Qe5,Rg5,Qf4,Qf7,Qb8+,Kg7,Kb4,Qe7+,Kc3,e5,h4,Rf5,Kc2,Rf2+,Kb1,e4', 'Qg3+,Kf7,Qxf2+', 'https://lichess.org/training/9Gf0t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9gghp', 'Rapid', 'ronniak2', 1917, 'Davide1972', 1635, 'd4,d5,c4,dxc4,Qa4+,Nc6,Qxc4,Qxd4,Qxd4,Nxd4,Na3,e5,e3,Bxa3,exd4,Bb4+,Bd2,Bxd2+,Kxd2,exd4,Re1+,Be6,Nf3,O-O-O,Bd3,Nf6,Rc1,Bxa2,Ra1,Bd5,Rxa7,Kb8,Rha1,c6,Nxd4,Bxg2,Nb3,Be4,Nc5,Kc7', 'Rxb7+,Kd6,Nxe4+,Nxe4+,Bxe4', 'https://lichess.org/training/9gghp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9GKfU', 'Blitz', 'OpExp1', 1902, 'efe1232', 1865, 'e4,d5,exd5,Qxd5,Nc3,Qe6+,Qe2,Qxe2+,Bxe2,Nf6,Nf3,Bg4,d4,Nc6,O-O,O-O-O,Ne5,Nxe5,dxe5,Bxe2,Nxe2,Ng4,e6,fxe6,h3,Nf6,Bf4,g6,Rad1,Rxd1,Rxd1,Bg7,Nd4,Rd8,Rd2,Ne4,Nxe6,Rxd2,Bxd2,Bxb2,Bb4,Kd7,Nf8+,Kc6,Nxh7,Bc3,Bxc3,Nxc3,Nf8,g5,Ne6,Nxa2,Nxg5,a5,h4,a4,h5,Nb4', 'h6,a3,h7,a2,h8=Q,Nxc2,Qc3+', 'https://lichess.org/training/9GKfU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9gkHx', 'Rapid', 'MSaihu', 1934, 'francsc', 1949, 'e4,c5,Nf3,e6,Nc3,Nc6,Bb5,d5,exd5,exd5,O-O,Nf6,d4,a6,Bxc6+,bxc6,Re1+,Be7,dxc5,O-O,Bg5,Bxc5,Ne5,Qb6,Nd3,Bg4,Qd2,Ne4,Nxe4,dxe4,Rxe4,Bf5,Re2,f6,Nxc5,Qxc5,Bh4,Bg4,b4,Qc4,Re7,Rad8,Qe1,Qxc2,f3,Bf5,h3,Rd2,Bf2,Qb2,Rc1', 'Rxf2,Qxf2,Qxc1+', 'https://lichess.org/training/9gkHx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9GkvJ', 'Blitz', 'esparzaesc72', 1900, 'Paokaraforever', 2002, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,Qg4,g6,Bd2,cxd4,Qxd4,Nc6,Bb5,Ne7,Qxb4,Bd7,Bxc6,Nxc6,Qf4,Qb6,O-O-O,O-O-O,Nf3,Kb8,Be3,Qa6,Nd4,Nb4,a3,Nc6,Nxc6+,Bxc6,Qxf7,Rhe8,Qf4,Rf8,Qd4,b6,h4,Rf5,Na2,Bb5,Nb4,Qa4,g4,Rff8,Kb1,Rc8,c3,Rc4,Qd2,a5,Nxd5,exd5,Qxd5,Rfc8,Qd6+,Ka8,Qxb6,R4c7,h5,Qb3,Qxa5+,Kb7,Qb6+,Ka8,hxg6,Rb7,Qa5+,Kb8,gxh7', 'Bd3+,Ka1,Qxb2#', 'https://lichess.org/training/9GkvJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9gO00', 'Blitz', 'DimitrjCalculyann', 2241, 'FM scandalgod', 2498, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,dxc4,e3,b5,a4,b4,Na2,a5,Bxc4,e6,O-O,Bb7,Qe2,Nbd7,Rd1,Be7,e4,O-O,Bg5,h6,Bh4,Re8,Nc1,Qb6,Nb3,Rad8,e5,Nd5,Bxe7,Rxe7,Rac1,Rc8,Nfd2,c5,Ne4,cxd4,Nd6,Rd8,Nxd4,Ba8,N4b5,Nc5,Qg4,Kf8,b3,Bc6,Nd4,Ba8,N4f5,exf5,Nxf5,Qg6', 'Qxg6,fxg6,Nxe7,Kxe7,Bxd5,Rxd5,Rxd5,Bxd5,Rxc5', 'https://lichess.org/training/9gO00');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9gpC9', 'Rapid', 'chess4xadrez', 1800, 'trickshotmate', 1866, 'e4,c5,f4,d5,e5,Nc6,Nf3,Bg4,Be2,g6,O-O,Bg7,Ng5,Bxe2,Qxe2,f6,exf6,Nxf6,Ne6,Qb6,Nxg7+,Kf7,Ne6,Ne4,f5,gxf5,d3,Kxe6,dxe4,Nd4,exd5+,Kxd5,c4+,Kc6,Qd1,Rad8,Nc3,Qb4,Nd5,Qxc4,Nxe7+,Kb6,Bg5', 'Ne2+,Kh1,Rxd1', 'https://lichess.org/training/9gpC9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9gSrB', 'Rapid', 'adnanov', 1922, 'bogdan81', 1948, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,c3,Bg4,h3,Bh5,d3,Nf6,Be3,Bxe3,fxe3,Qd7,Nbd2,O-O-O,a4,g5,g4,Bxg4,hxg4,Qxg4+,Kf2,h5,Rg1,Qh3,Rg3', 'Ng4+,Ke2,Qxg3', 'https://lichess.org/training/9gSrB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9gXfv', 'Rapid', 'zoperajat', 1744, 'mousaJalali', 1734, 'd4,d5,c4,c6,cxd5,cxd5,Nf3,e6,g3,Bd7,Bg2,Nf6,Bg5,Be7,Ne5,Bc8,Qa4+,Nfd7,Bxe7,Qxe7,Nc3,O-O,O-O,Nxe5,dxe5,Nc6,Nb5,Nxe5,Rac1,Bd7,Qb3,Bxb5,Qxb5,a6,Qa5,Nc4,Qc3,b5,b3,Nd6,Qb4,Nf5,Qf4,Ra7,e4,dxe4,Bxe4,Nh6,Rfd1,e5,Qe3,f5,Bd5+,Kh8,Be6,Raa8,Qxe5,Rae8,Rd7', 'Qxd7,Bxd7,Rxe5', 'https://lichess.org/training/9gXfv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Gy8a', 'Classical', 'adamsky', 1891, 'Rattlingstar82', 1927, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Nf3,c5,Bb2,cxd4,cxd4,Nc6,Be2,Bg4,e5,Qb6,Rb1,Bf5,Bd3,Qa5+,Kf1,Bxd3+,Qxd3,Rd8,Qb3,Qa6+,Kg1,Qe2,Qxb7,Nxe5,Re1', 'Nxf3+,gxf3,Qxe1+', 'https://lichess.org/training/9Gy8a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9GyFk', 'Rapid', 'SamuelFr', 1608, 'clydecat', 1603, 'e4,c5,Bc4,e6,e5,Nc6,f4,f6,Nf3,d5,exd6,Bxd6,d3,Nge7,Nc3,O-O,O-O,Kh8,Nh4,e5,Ne4,Nd4,Nxd6,Qxd6,fxe5,Qxe5,Bf4', 'Ne2+,Kh1,Nxf4', 'https://lichess.org/training/9GyFk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9gZAV', 'Blitz', 'Mikaelrup', 1625, 'ArcaD', 1583, 'b4,e5,a3,Nf6,Bb2,d6,e3,Nbd7,Nf3,Be7,Nc3,d5,Ne2,c5,bxc5,e4,Nfd4,Nxc5,Nf4,Bd6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,O-O,f3,Bxf4,exf4,Qd6,fxe4,Ncxe4,Nf5,Qc5+,Kh1,Nf2+,Rxf2,Qxf2,Bxf6,gxf6', 'Qg4+,Kh8,Qg7#', 'https://lichess.org/training/9gZAV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9H0eG', 'Classical', 'picarge', 1772, 'alakibaki', 1832, 'd4,Nf6,Bf4,e6,e3,d5,c3,c5,Bd3,c4,Bc2,Bd6,Nf3,Bxf4,exf4,O-O,O-O,Nc6,Nbd2,Qd6,g3,Ne8,h4,f6,Re1,f5,Re2,Rf6,Ne5,Qe7,Ndf3,Nd6,Qd2,Ne4,Bxe4,fxe4,Nxc6,bxc6,Ne5,Bb7,f3,Raf8,fxe4,dxe4,Rf1,c5,dxc5,Qxc5+,Qd4,Qc7,Nd7,Rd8,Nxf6+,Kf7,Qe5,Qb6+,Kh2,gxf6,Qh5+,Kg7,Qg4+,Kh8,f5,Rg8,Qf4,e5,Qf2,Qc6,Re3,Qe8,Qe2,Qf7,Rd1,Bc8,g4,Qg7,Rg3,Bxf5,Rdg1,Be6,Qxe4,Rd8,Qe3,Qg6,Qf2,Qh6,h5', 'Rd2,R1g2,Rxf2', 'https://lichess.org/training/9H0eG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9h14D', 'Blitz', 'FM FlamingFM', 2536, 'ShowMaker1', 2190, 'e4,d5,exd5,Nf6,Nf3,c6,Be2,cxd5,O-O,Nc6,d4,Bf5,c4,e6,Nc3,Be7,cxd5,Nxd5,Bb5,O-O,Re1,Bg4,Qd3,Bxf3,Qxf3,Nxd4,Qd3,Nxb5,Nxb5,a6,Nc3,Nxc3,Qxc3,Bf6,Qb3,b5,Bf4,Rc8,Rad1,Qb6,Rd6,Qb7,h3,Rc4,Bg3,h6,Red1,Rfc8,Rd7,Qe4,Qa3,Ra4,Qd6,Rxa2,b3,h5,Bf4,Rcc2,Be3,Kh7,Rxf7,Qg6,Qxe6,Rxf2,Bxf2,Rxf2,Qd5,Rf5,Qd7,Bd4+,Qxd4,Rxf7,b4,Qf5,Ra1,Rf6,Qc3,Qe6,Qc2+,Kh6,Qd2+,Kh7,Qc2+,Rg6,Rf1,Qe3+,Kh1,Qg3,Rf5,Qe1+,Kh2,Qg3+,Kh1,Qh4,Qe2,Rg5,Rf7,Qd4,Rf1,Qe5,Qd3+,Kh6,Qd8,Rg6,Qh8+,Kg5,Qd8+,Kh6,Qh8+,Kg5,Qd8+,Rf6,Rd1,h4', 'Rd5,Qxd5,Qxd5+', 'https://lichess.org/training/9h14D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9H1Q0', 'Classical', 'meachanrudai', 1773, 'sanganakam', 1695, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be7,Qd2,O-O,f3,Nc6,O-O-O,b5,Kb1,Be6,Nd5,Bxd5,exd5,Na7,h4,Nh5,g4,Ng3,Rh3,Nxf1,Rxf1,f5,g5,f4,Bxa7,Rxa7,Rg1,a5,Qg2,a4,Nd2,a3,b3,Qc7,Ne4,b4,h5,Qa5,h6,g6,Rd1,Qd8,Qd2,Rb7,c3,bxc3,Qxc3,Bxg5,Qc6,Rb6,Qa4,Be7,Qxa3,Qd7,Rh2,Qb7,Rc2,Ra8,Qc1,Rb5,Rc6,Qa7,Qc2,Qe3,Rd3,Qe1+,Kb2', 'Rxa2+,Kxa2,Ra5+,Kb2,Qa1#', 'https://lichess.org/training/9H1Q0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9h38Q', 'Rapid', 'Vrkau10', 1984, 'dacds', 1968, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,b5,Be3,e6,Qd2,Nbd7,Nc6,Qc7,Nb4,Bb7,O-O-O,Qa5,a3,d5,exd5,Bxb4,dxe6,Ne5,axb4,Qa1+,Nb1,Bd5,exf7+,Kxf7,Qc3,Ba2,Kd2,Rhd8+,Bd3,Nc4+,Ke2,Nxe3,Kxe3', 'Nd5+,Kf2,Nxc3,Nxc3,Qxb2', 'https://lichess.org/training/9h38Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9H3Dt', 'Classical', 'glyn', 1928, 'dustidunit', 1925, 'c4,c5,f3,d5,cxd5,Qxd5,Nc3,Qd8,e4,b6,Bb5+,Bd7,a4,g6,d4,Bxb5,Nxb5,cxd4,Nxd4,Bg7,Nge2,e6,O-O,Ne7,f4,Nbc6,e5,O-O,Nxc6,Nxc6,Qxd8,Rfxd8,Ra3,Rac8,Be3,Bh6,g3,Nxe5,fxe5,Bxe3+,Rxe3,Rc2,b3,Rdd2,Kf2,Kf8,Kf3,Ke7,Rc1', 'Rxe2,Rxc2,Rxc2', 'https://lichess.org/training/9H3Dt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9H3Lh', 'Rapid', 'B_C_AKKURT', 1707, 'aih', 1706, 'e4,b6,d4,Bb7,Bd3,Nc6,Be3,e6,Nf3,f5,e5,Qe7,Nc3,O-O-O,Qe2,g5,Ba6,f4,Bxb7+,Kxb7,Bd2,g4,Ng1,Nxd4,Qe4+,Nc6,Bxf4,Bg7,h4,h5,g3,Nh6,O-O-O,Nf7,Nge2,Nxe5,Bg5,Bf6,Bxf6,Qxf6,Rhf1,d5,Qa4,Nf3,Nf4,Qh6,Kb1,e5,Nfxd5,Nd2+,Ka1,Nxf1,Rxf1,Qd2,Qe4,Rhf8,Ne7,Rxf2,Qxc6+,Kb8,Rxf2,Qe1+,Nb1', 'Qxb1+,Kxb1,Rd1#', 'https://lichess.org/training/9H3Lh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9h3Ll', 'Rapid', 'GOOD1', 1663, 'Paky', 1643, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Nc3,h6,Bd3,Ne7,Nh4,Bxd3,Qxd3,c5,Qb5+,Nbc6,Qxb7,Nxd4,O-O,Nxc2,Nb5,Rc8', 'Nd6+,Qxd6,exd6', 'https://lichess.org/training/9h3Ll');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9H5Jc', 'Rapid', 'RSdC', 1784, 'desiignerr', 1774, 'f4,c5,Nf3,e6,e3,Nc6,Bb5,Qc7,c4,a6,Bxc6,Qxc6,Ne5,Qxg2,Rf1,Qxh2,Qf3,Nf6', 'Rh1,Qxh1+,Qxh1', 'https://lichess.org/training/9H5Jc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9h5N2', 'Rapid', 'erikd', 1652, 'Zonga', 1953, 'e4,e6,d4,d5,exd5,exd5,Nc3,Bb4,Bd2,c6,a3,Bd6,Nf3,Nf6,h3,O-O,Qe2,Re8,Be3,Bf4,O-O-O,Bxe3+,fxe3,Bf5,Nh4,Bg6,Nxg6,hxg6,Qf3,Qe7,Re1,Nbd7,g4,Nf8,Bd3,Qc7,e4,dxe4,Nxe4,Nxe4,Bxe4,Nh7,h4,Nf6,g5,Nxe4,Rxe4,Qd6,c3,a5,Rxe8+,Rxe8,h5,gxh5', 'Qxh5,Kf8,Qh8+,Ke7,Re1+', 'https://lichess.org/training/9h5N2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9H6jZ', 'Blitz', 'fisher418', 2407, 'FM Yavorovsky_Valeriy', 2418, 'c4,e6,g3,d5,Nf3,Nf6,Bg2,Be7,O-O,O-O,d4,c6,Qc2,b6,cxd5,cxd5,Bf4,Bb7,Nc3,Nc6,a3,Rc8,Rac1,Na5,Ne5,a6,b3,Bxa3,Ra1,Bb4,Bd2,Nc6,Qd3,Bd6,Nxc6,Rxc6,e4,Be7,e5,Ne8,f4,g6,g4,f5,exf6,Bxf6,f5,Nc7,fxg6,Bg7,gxh7+,Kh8,Rxf8+,Qxf8,Rf1,Qe8,Ne2,e5,dxe5,Bxe5,Nd4,Qg6,Qxg6', 'Bxd4+,Kh1,Rxg6', 'https://lichess.org/training/9H6jZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9hA6Q', 'Classical', 'Tu-ra', 1880, 'RamazanRembo', 1895, 'e4,e5,Nf3,Nc6,Bc4,d6,h3,f5,d3,f4,g3,g5,gxf4,gxf4,Rg1,Nf6,Ng5,d5,exd5,Ne7,d6,Ned5,Bxd5,Nxd5,Qh5+,Kd7,Nf7,Qf6,Nxh8,Qxh8,Rg5,cxd6,Qf7+,Ne7,Nc3,h6,Rf5,Kc6,Qxf8,Bxf5,Qxe7,Qg8,Ke2,Bxh3,Qh4,Qg2,Bd2', 'Bg4+,Qxg4,Qxg4+', 'https://lichess.org/training/9hA6Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9HAER', 'Rapid', 'Polp63', 1766, 'shafer24', 1653, 'e4,e5,f4,Nc6,Nf3,Qf6,fxe5,Nxe5,Be2,d6,O-O,Bg4,d4,Nxf3+,Bxf3,Bxf3,Rxf3,Qe6,Nc3,c6,d5,cxd5,Nxd5,Qd7,Bd2,Be7,Ba5,Qc8,Nc7+,Kf8,Nxa8,Qc5+,Kh1,Qxa5,Qf1,f6,Rc3,Bd8,Rd1,Ke7,Qd3,Qe5,Nc7,Nh6,Nd5+,Kf7,Rc8', 'Ng4,Qg3,Qxg3,hxg3,Nf2+,Kh2,Nxd1', 'https://lichess.org/training/9HAER');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9hieT', 'Bullet', 'CM FourNinetySix', 2262, 'tarjih2014', 2043, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,Nbd7,f4,g6,Qe2,Qc7,Bxf6,exf6,Nd5,Qd8,O-O-O,Bh6,Kb1,O-O,h4,Nb6,h5,Nxd5,exd5,Bxf4,Qf3,Be5,g4,g5,Bd3,Bxd4,Qe4,f5,Qxd4,fxg4,h6,f6,Rh5,Rf7,Rf1,Qe7,a4,Qe5,Qxe5,dxe5,c4,Bd7,b3,Re8,c5,e4,Bc4,e3,Rh2,g3,Rg2,Bh3,Rfg1,Bxg2,Rxg2,e2,Bxe2,Re3,Bc4,Kf8,d6,Rd7,Kc2,b6,Kd2,Rf3,b4,bxc5,bxc5,Rf5', 'Be6,Rxc5,Bxd7', 'https://lichess.org/training/9hieT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9hLk2', 'Rapid', 'Subscript', 1612, 'zasaa', 1640, 'e4,e5,Nf3,Qf6,Bc4,h6,c3,Ne7,d4,d6,dxe5,dxe5,O-O,Ng6,Be3,Bd6,Nbd2,O-O,Rb1,c6,b4,b5,Bb3,Rd8,a3,Bg4,h3,Bxf3,Nxf3,Bxb4,Qc1,Bd6,a4,a6,Ra1,Nd7,axb5,cxb5,Bd5,Bc5,Bxa8,Rxa8,Bxc5,Nxc5,Qc2,Nf4,Rfd1,Qg6,g3,Nxh3+,Kf1,Ng5,Nxg5,hxg5,Re1,g4,Rad1,Qh5,Rd5,Qh1+,Ke2,Qf3+,Kd2,Ne6,Kc1,Rc8,Rd3,Nd4,Rxf3,Nxc2,Kxc2,gxf3,Re3,f6,Rxf3,b4,Kb3,a5,cxb4,Rb8,Ka4,axb4,Rb3,Ra8+,Kxb4,Rb8+,Kc3,Rxb3+,Kxb3,g5,Kc3,Kf7,Kd3,Kg6,f3,Kh5,Ke3,g4', 'f4,exf4+,Kxf4,Kg6,Kxg4', 'https://lichess.org/training/9hLk2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9hLSF', 'Blitz', 'vuviethung12345', 1620, 'devcapamerica1945', 1593, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bb4,a3,Bxc3,dxc3,d6,Bd3,Bg4,h3,Bh5,Bg5,h6,Bh4,g5,Bg3,Qe7,Qe2,O-O-O,O-O-O,g4,hxg4,Bxg4,Ba6,bxa6,Qxa6+,Kd7,Qb5,Rb8,Qd3,Rb7,c4,Rhb8,b3,a5,c5,Nd4,cxd6,cxd6,Rxh6,d5,Nxe5+,Kd6,Rdh1,Ne2+,Kb2,Kc5,f3,Nxg3,Nxg4,Nxg4,fxg4,Qe5+,Ka2,Nxh1,Rh5,Qxe4,Qc3+,Kd6,Rh6+,Kd7,Qc6+,Ke7', 'Qd6+,Ke8,Rh8#', 'https://lichess.org/training/9hLSF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9HM7Z', 'Rapid', 'Godunova367', 1662, 'Sufiansalameh', 1697, 'c4,Nc6,Nc3,b6,Nf3,Bb7,g3,Nf6,Bg2,d5,cxd5,Nxd5,Nxd5,Qxd5,O-O,O-O-O,a3,Nd4,b4,Nxf3+,Bxf3,Qe6,Bxb7+,Kxb7,Bb2,f6,Rc1,Qd6,d4,e6,e3,h5,Qf3+,Kb8,Rc3,g5,Rfc1,g4,Qxf6,Be7,Qe5,Qxe5,dxe5,Rc8,Rc6,Rh6,Kg2,h4,f4,h3+,Kf2,Kb7,e4,a6,f5,Bc5+,Ke2,Kxc6,bxc5,b5,f6,Rf8,Ke3,Rh7,Kf4,Rd7,Kxg4,Rd2,Bc3,Rxh2,Bb4,Kd7', 'c6+,Ke8,Bxf8', 'https://lichess.org/training/9HM7Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9hOK2', 'Rapid', 'RacingConcert', 1658, 'danbar001', 1690, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,Nxd5,e4,Nb6,Bf4,Nc6,Nf3,Be7,Be2,O-O,O-O,Bd7,Qd2,Na5,a3,Nac4,Bxc4,Nxc4,Qe2,b5,b3,Nb6,Nxb5,a6,Bxc7,Bxb5,Bxd8,Bxe2,Bxe7,Rfe8,Rfe1,Bxf3,gxf3,Rxe7,Rac1,Rc8,Rxc8+,Nxc8,Rc1,Re8,Rc6,Rd8,a4,Kf8,Kg2,Ne7,Rxa6,Ng6,d5,exd5,exd5,Rxd5,Ra8+,Ke7,Rg8,Kf6,Rb8,Nf4+,Kg3,Ne2+,Kg4,Rg5+,Kh3,Nf4+,Kh4,Kg6,Rb6+,f6,Rb4,Nd3,Rd4,Rh5+,Kg3,Rg5+,Kh3,Nxf2+,Kh4,Rh5+,Kg3,Nh3,Rg4+,Ng5,f4,Rh3+,Kg2,Kf5', 'Rxg5+,fxg5,Kxh3', 'https://lichess.org/training/9hOK2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9hpIw', 'Rapid', 'revax27', 1679, 'Fourth_planet', 1660, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Be7,d3,O-O,O-O,d6,a3,Bg4,h3,Bh5,g4,Bg6,Kh2,Nd4,Nxd4,exd4,Ne2,c5,Nf4,b5,Bb3,d5,e5,c4,Ba2,Ne8,e6,Bd6,Re1,fxe6,Kg3,Qg5,Qf3,e5,Nxg6,Qxg6,Qxd5+,Kh8,Qxa8,e4+,Kg2,exd3,Rxe8,Qf6,Rxf8+,Bxf8,Qxa7,h6,b3,dxc2,bxc4,Qc6+,Kf1', 'Qh1+,Ke2,Qd1#', 'https://lichess.org/training/9hpIw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9hpZl', 'Rapid', 'mehdi9991', 1889, 'Chesspatzeruk-TWITCH', 1995, 'e4,c5,Nf3,d6,Bc4,e6,O-O,Nf6,Nc3,a6,a4,Be7,d3,O-O,Re1,Nbd7,e5,dxe5,Nxe5,Nxe5,Rxe5,Nd7,Rh5,Nf6,Rh3,e5,Rg3,Bf5,Bh6,Bg6,Bg5,h6,Bh4,Qd4,Bxf6,Bxf6,Rxg6,b5,axb5,axb5,Rxa8,Rxa8,Nxb5', 'Qxb2,g3,Ra1,Qxa1,Qxa1+', 'https://lichess.org/training/9hpZl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9htdM', 'Rapid', 'Val4', 1726, 'storogev57', 1723, 'e4,e5,Nf3,Nc6,Bb5,d6,h3,Bd7,O-O,a6,Ba4,h6,d4,exd4,Nxd4,Ne5,Bb3,Nf6,Nc3,Be7,f4,Nc6,Nf5,Bxf5,exf5,O-O,Ne2,Na5,Bd5,Nxd5,Qxd5,c6,Qf3,d5,Ng3,f6,Bd2,Nc4,Bc3,Nd6,Rae1,Rf7,Re6,Qd7,Rfe1,Re8,Qg4,Kh8,Nh5,Ne4,Qg6,Bc5+,Kh1,Rxe6,fxe6,Qxe6,f5,Qe7,Ng3,Nf2+,Kh2,Qc7,Re8+,Bf8,Kg1,Ne4,Nxe4,dxe4,Bd2,Qd7,Rxe4,Bc5+,Kh1', 'Qxd2,Re8+,Rf8', 'https://lichess.org/training/9htdM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9HVmK', 'Classical', 'simon20001', 1657, 'bochu03', 1634, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,Bc5,O-O,O-O,d3,d5,exd5,Nxd5,h3,Nxc3,bxc3,Bf5,Re1,Re8,Nxe5', 'Rxe5,Rxe5,Nxe5', 'https://lichess.org/training/9HVmK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9hWgf', 'Rapid', 'karan_gupta', 1903, 'kr05980598', 1817, 'e4,e5,Nf3,Nc6,Bc4,Be7,c3,d6,O-O,Be6,Bxe6,fxe6,d4,exd4,cxd4,Nf6,Bg5,Nxe4,Bxe7,Qxe7,d5,Ne5,Re1,Nf6,Nxe5,dxe5,Rxe5,O-O,Rxe6,Qc5,Nc3,Rad8,Qb3,Nxd5,Nxd5', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/9hWgf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9HxHu', 'Rapid', 'AVATAR-21', 1927, 'ArbenBaxhija2', 1983, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Be7,Nc3,Nf6,Be2,a6,a4,O-O,O-O,c5,Nb3,Nc6,Bf4,Be6,Qd2,Bxb3,cxb3,Nd4,Bc4,Rb8,a5,Qc7,Ne2,Nxe4,Qd3,Nxe2+,Qxe2,Nf6,Rfd1,Qc6,Rd3,Rbe8,Qd1,Rd8,Bg5,h6,Bxf6,Bxf6,Bd5,Qd7,Qh5,Bxb2,Ra4,Bd4,Rg3,Rde8,h4,Re5,Qxh6,Rxd5', 'Rxd4,f5,Rxd5', 'https://lichess.org/training/9HxHu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9I1uI', 'Blitz', 'Bajanista', 2295, 'NM Kretainis', 2347, 'e4,e6,d4,d5,Nc3,Bb4,e5,b6,Bd2,Bf8,f4,h5,h4,Ne7,Bd3,Ba6,Nf3,Bxd3,cxd3,Nf5,Rc1,a6,Ne2,Qd7,a3,Kd8,b4,Kc8,Qb3,Kb7,a4,Nc6,Kf2,Nce7,Rc2,Nh6,Ng5,Ng4+,Kf3,Nf5,g3,f6,Nh3,Be7,Rhc1,Rac8,Nf2,Nfh6,Nxg4,hxg4+,Kg2,Nf5,Rc6,Qxc6,Rxc6,Kxc6,b5+,axb5,Qxb5+,Kb7,Qd7,fxe5,Qxe6,Rhf8,Qxd5+,c6,Qxe5,Bd6,Qe6,Rce8,Qd7+,Ka6,Nc3,Rc8,Ne4,Bb8,d5,cxd5,Qxd5,Rcd8,Qb5+,Ka7,Kf2,Nd4,Qg5,Rd7,Be3,Nc2,a5,Nxe3,axb6+,Kxb6,Qc5+,Kb7,Kxe3', 'Ba7,Qxa7+,Kxa7', 'https://lichess.org/training/9I1uI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9i5KJ', 'Rapid', 'wael12345', 1833, 'Ski28', 1823, 'e4,e5,Nf3,Nc6,Bb5,Bc5,d3,d6,h3,Bd7,O-O,Nd4,Bxd7+,Qxd7,c3,Ne6,a3,O-O-O,b4,Bb6,a4,a6,a5,Ba7,Qe1,Ne7,Be3,Kb8,Bxa7+,Kxa7,Qe3+,Kb8,Nbd2,f5,Nc4,g5,Nxg5,Nxg5,Qxg5,fxe4,dxe4,Rhg8,Qh4,Ng6,Qh6,Nf4,g3,Rg6,Qh4,Rdg8,b5,Nxh3+,Kh2,Rg4,Qxh3,h5,bxa6,Qb5,Ne3,Rxe4,axb7,Rxe3,fxe3,Qe2+,Kh1,Kxb7,a6+,Ka7,Rf7,Qc4,Qg2,Rb8,Rh7,Qxc3,Rxh5', 'Qxa1+,Kh2,Rb2', 'https://lichess.org/training/9i5KJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9i7ga', 'Rapid', 'keres20188', 1898, 'Mankind03', 1908, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,dxc4,e3,Bd7,Nf3,b5,a4,Bb4,axb5,Bxc3+,bxc3,Bxb5,Ne5,h6,Bxf6,Qxf6,Nxc4,Nc6,Bd3,O-O-O,O-O,e5,Nxe5,Bxd3,Nxc6,Bxf1,Nxd8,Bb5,Rxa7,Rxd8,Qg4+,Bd7,Qe4,Qc6', 'Ra8+,Kb7,Qxc6+', 'https://lichess.org/training/9i7ga');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9I7Uy', 'Rapid', 'med57', 1692, 'SafeTScissor', 1719, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Bb5+,Bd7,Bxd7+,Nbxd7,O-O,e6,Nc3,a6,a3,Bd6,Bg5,O-O,b4,Qc7,Ne2,h6,Bxf6,Nxf6,g3,Ne4,Re1,Nc3,Nxc3,Qxc3,Re3,Qc7,Ne5,Rac8,Re2,a5,bxa5,Qxa5,Qe1,Qa4,Re3,Rxc2,Qd1,Rfc8,Kg2,Qa5,Re2,Rxe2,Qxe2,Qc3,Rb1,Qxd4,Nf3,Qa7,Qe3,Qxe3,fxe3,Bxa3,Rxb7,Bc1,Rb3,f6,Nd4,Kf7,Rb7+,Kg6,Nxe6,Bxe3,Rxg7+,Kf5,Kf3,d4,Re7,Rc3,Ng7+,Kg6,Ke2,Rc2+,Kd3,Rd2+,Ke4,Rxh2,Nf5,Re2', 'Rg7+,Kh5,g4#', 'https://lichess.org/training/9I7Uy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9iDFU', 'Rapid', 'apis16', 1858, 'Nillo1994', 2080, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,Bg4,Be2,Nc6,O-O,e5,h3,Bh5,c3,O-O-O,a4,f5,a5,Be7,b4,e4,Nh2,Be8,b5,Ne5,b6,cxb6,axb6,axb6,d4,exd3,Bf3,Nxf3+,Nxf3,Bc6,Bf4,g5,c4,Qxc4', 'Ra8+,Kd7,Ne5+', 'https://lichess.org/training/9iDFU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9ieVW', 'Rapid', 'Hax33', 981, 'macheneso', 856, 'e4,e5,Bc4,Nh6,Nf3,d6,O-O,Bg4,d3,Nc6,Bg5,f6,Be3,Nd4,Bxd4,exd4,h3,Bh5,c3,d5,Bxd5,c6,Qa4,g5,Nxd4,g4,Ne6,Qe7,hxg4,Bxg4,Qb4,Bxe6,Nd2,Qxb4,cxb4,cxd5,exd5,Bxd5,Rae1+,Be7,Re2,O-O-O,Rxe7,Bxa2,Ra1,Bd5,Rxa7,Rhg8', 'Ra8#', 'https://lichess.org/training/9ieVW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9iG7M', 'Blitz', 'Saturnus13', 2280, 'Ronaldoplay', 2243, 'b4,e6,Bb2,d5,a3,Nf6,e3,c5,bxc5,Bxc5,d4,Bd6,c4,O-O,Nf3,a6,Nbd2,Nc6,Bd3,dxc4,Nxc4,Be7,O-O,b5,Ncd2,Bb7,Qe2,Rc8,e4,Na5,e5,Nd5,Qe4,g6,Qg4,Nc4,Bc1,Re8,Ne4,Ndb6,h4,Bxe4,Bxe4,Nd5,h5,Nc3,Bd3,Nxe5,Nxe5,Bf6,hxg6,hxg6,Bxg6,fxg6,Qxg6+,Bg7,Qf7+,Kh7,Bh6', 'Ne2+,Kh1,Qh4#', 'https://lichess.org/training/9iG7M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9IhZA', 'Rapid', 'Herilampung7', 1826, 'stillearningchess', 1778, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,Bxf7+,Kxf7,Qh5+,g6,Qd5+,Ke8,Qe5+,Qe7,Qxh8,Nf6,d3,Kf7,Bg5,Bg7,Bxf6,Kxf6,Qxh7,b6,O-O,Bb7,Nd2', 'Rh8,Qxh8,Bxh8', 'https://lichess.org/training/9IhZA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9IiH2', 'Rapid', 'Champgirl', 1714, 'monah11', 1739, 'c4,e5,Nc3,f5,g3,d6,Bg2,Ne7,e3,Nbc6,Nge2,Bd7,O-O,Ng6,d4,exd4,exd4,Be7,Re1,O-O,Nf4,Nxf4,Bxf4,Bf6,d5,Ne5,Bxe5,dxe5,Rb1,e4,f3,exf3,Bxf3,Rb8,d6,c6,c5,b6,b4,Bxc3,Qb3+,Kh8,Qxc3,Qg5,Re7,Rg8,Rxd7,f4,Bxc6,fxg3,Qxg3,Qd2,Be4', 'Qd4+,Qf2,Qxe4,Rc1,Qg4+,Qg3,Qxd7', 'https://lichess.org/training/9IiH2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9IISm', 'Rapid', 'Numeroid', 1934, 'Adnan-Aliraqi', 1899, 'd4,e6,c4,d5,Nc3,Nf6,cxd5,exd5,Bg5,c6,Qc2,Bb4,h3,h6,Bh4,g5,Bg3,Ne4,Be5,f6,Bxb8,Rxb8,e3,Qa5,Ne2,Bf5,Qb3,c5,a3,c4', 'Qxb4,Qxb4,axb4', 'https://lichess.org/training/9IISm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9IKlO', 'Rapid', 'sinanpopaj', 1941, 'Manuel83', 1940, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bb6,c3,h6,d3,Nf6,Qb3,O-O,h3,d6,a4,a6,Be3,Qe7,Bxb6,cxb6,Nbd2,Be6,Bd5,Rac8,c4,Na7,Bxe6,Qxe6,O-O,b5,axb5,axb5,Rxa7,bxc4,Nxc4,b5,Na5,Qxb3,Nxb3,Rc3,Nbd2,Rxd3,Rc1,Nh5,g3,f5,Rc2,fxe4,Ne1,Rd4,Rb2,Nf6,Kf1,Nd5,Ke2,Nc3+,Kf1,e3,Ndf3,e2+,Kg2,Rd1,Rc2,e4,Rxc3,exf3+,Nxf3', 'Rxf3,Re7,Rxc3', 'https://lichess.org/training/9IKlO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9IKvX', 'Classical', 'V0xed', 1701, 'alexandresilva83', 1696, 'e4,c5,Nc3,e6,d4,cxd4,Qxd4,Nc6,Qd1,Bb4,Ne2,Nf6,Bd2,Bxc3,Nxc3,O-O,Bc4,Ne5,Bb3,b6,f4,Nc6,e5,Ne8,Be3,f6,exf6,Rxf6,g3,Bb7,Rf1,Nc7,f5,Kh8,Bg5,exf5,Rxf5', 'Qe8+,Ne2,Rxf5', 'https://lichess.org/training/9IKvX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9ILrl', 'Rapid', 'hasan-ahmadian', 1761, 'E_Onegin', 1802, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Be7,h3,O-O,Nc3,Bb4,Bd2,d6,a3,Bc5,Nd5,Nxd5,Bxd5,Ne7,Bg5,c6,Bc4,Kh8,Nh4,f6,Be3,Bxe3,fxe3,d5,exd5,cxd5,Bb3,f5,Qh5,e4,O-O,Qb6,d4,Be6,g4,fxg4,hxg4,Qd6,Kg2,Qd7,Kh3,Qe8,Qe5,Nc6', 'Rxf8+,Qxf8,Qxe6', 'https://lichess.org/training/9ILrl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9im0f', 'Rapid', 'Yaaqobh', 1937, 'Kacperek', 1886, 'd4,d5,Nf3,Nf6,c4,dxc4,Bg5,e6,e3,h6,Bxf6,Qxf6,Bxc4,Bb4+,Nc3,O-O,O-O,c5,a3,cxd4,exd4,Ba5,b4,Bb6,Ne4,Qe7,Rc1,Rd8,Qd3,Nc6,d5,exd5,Bxd5,Ne5,Nxe5,Qxe5,Rfd1,Bf5,Qb5,Bxe4', 'Bxf7+,Kxf7,Qxe5', 'https://lichess.org/training/9im0f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9INg9', 'Rapid', 'FelipeLeoNascimento0', 1922, 'PeterAjedrez', 1990, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,h6,Nbd2,O-O,Nb3,Bb6,Be3,d6,Qd2,Nh7,Bxb6,axb6,d4,exd4,cxd4,Bg4,O-O-O,Rxa2,Kb1,Ra8,h3,Bd7,g4,Nf6,g5,Nxe4,Qf4,Nxf2,gxh6,Nxd1,Rg1,g6,Rxg6+,Kh8,Rg7,Ne7,Qe4,Bf5,Bd3,Bxe4,Bxe4,f5,Nh4,fxe4,d5,Qe8,Rxe7,Qa4', 'Ng6+,Kg8,h7#', 'https://lichess.org/training/9INg9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9inw5', 'Blitz', 'idkrite', 1965, 'Komondo', 1916, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,Bg5,d6,e4,Bg4,Be2,Nfd7,Qb3,f6,Bh4,b6,c5+,Kh8,cxd6,exd6,h3,Bxf3,gxf3,Qe8,O-O-O,a5,Bg3,Nc6,h4,f5,d5,Nce5,h5,f4,Bh4,gxh5,Bb5,Qf7,Bg5,h6,Bh4,Kh7,Bc6,Rab8,Bxd7,Nxd7,Nb5,Ne5,Qc2,Kg8,Kb1,Nxf3,Rh3,Ne5,Rg1,Kh8,f3,Qd7,Qg2,Rf7,Nd4,c5,Ne6,Rg8,Bf2,Nd3,Rxh5,Nxf2,Nxg7,Rfxg7', 'Rxh6+,Rh7,Qxg8#', 'https://lichess.org/training/9inw5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Ioet', 'Rapid', 'IA53', 1724, 'Nehberg', 1695, 'd4,Nf6,Bg5,e6,e4,Be7,Nf3,Nxe4,Bxe7,Qxe7,Bd3,Nf6,O-O,O-O,Nc3,d5,Ng5,Ne4,Ncxe4,dxe4,Bxe4,g6,Nf3,c6,Qd2,Nd7,Qh6,f5,Bd3,Nf6,Ne5,Nd5,h3,Bd7,c3,b6,Rfe1,Qf6', 'Nxd7,Qg7,Qxg7+', 'https://lichess.org/training/9Ioet');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9iQkr', 'Classical', 'Alpacone', 1616, 'mostafa94ali', 1674, 'e4,c6,d4,d5,e5,Bf5,f4,e6,Bd3,Bxd3,Qxd3,Qh4+,g3,Qd8,Bd2,Nd7,Nc3,Qb6,O-O-O,c5,Be3,c4,Qe2,f6,Kb1,Ba3,Na4,Qb5,c3,Qxa4,bxa3,Qxa3,Bc1,Qxc3,Qb2,Qxb2+,Bxb2,f5,Bc3,g6,Kc2,b5,a3,a6,Nf3,Ne7,Rb1,Rb8,Bb4,Nc6,Bd6,Rb7,h3,Kf7,Kc3,a5,Ng5+,Kg7,Nxe6+,Kf7,Ng5+,Kg7,e6,Nf6,Rhe1,Ne4+,Nxe4,dxe4,Be5+,Kg8,Bxh8,Kxh8,d5,Nd8,a4,bxa4,Rxb7,Nxb7,Kxc4,Kg8,Rb1,Nd6+,Kc5,Ne8,e7,Kf7,d6,Ke6,Rb6,a3,Ra6,e3,Rxa5', 'e2,Rxa3,e1=Q', 'https://lichess.org/training/9iQkr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Ir4J', 'Blitz', 'OpenTest', 2361, 'IM pollovsky', 2412, 'e4,e6,d3,Bc5,Qg4,Nf6,Qxg7,Rg8,Qh6,Bxf2+,Kd1,Rg6,Qd2,Ng4,Nh3,Bb6,d4,c5,d5,Qh4,Nc3,c4,Qe2,Na6,Bd2,d6,Qxc4,e5,Nb5,Ne3+,Bxe3,Bxe3,c3,f5,Kc2,fxe4,Nc7+,Nxc7,Qxc7,Qe7,Bb5+,Kf7,Qc4,Kg7,Raf1,Qh4', 'Qc7+,Kh8,Rf8+', 'https://lichess.org/training/9Ir4J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9iSki', 'Blitz', 'fAnderss', 1666, 'RandhawaIP', 1560, 'e4,d6,Nc3,e6,Nf3,Nd7,d4,Ne7,Bb5,a6,Bd3,g6,Bg5,Bg7,Qd2,O-O,Bh6,e5,Bxg7,Kxg7,dxe5,Nxe5,O-O-O,Nxd3+,Qxd3,f5,exf5,Bxf5,Qd4+,Kg8,Ng5,Nc6,Qd5+,Kg7,Rde1,Qxg5+,Kb1,Rf6,h4,Qg4,f3,Qxg2,Rhg1,Be6,Qe4,Qxf3,Qxf3,Rxf3,Rxe6,Nd4,h5,Kh6,Re7,Kxh5', 'Rxh7#', 'https://lichess.org/training/9iSki');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9it47', 'Rapid', 'Incredible_Mace', 1723, 'Garrix007', 1746, 'd4,Nf6,c4,e6,Bg5,d5,cxd5,Qxd5,Nc3,Bb4,Qa4+,Nc6,Bxf6,gxf6,e3,Bd7,Bb5,Bxc3+,bxc3,Ne5,Bxd7+,Nxd7,Ne2,O-O-O,O-O,a6,Rab1,Rhg8,g3,e5,Rfc1,Nb6,Qb4,Qf3,Rc2,h5,h4,f5,a4,f4,exf4,exf4,Nxf4,Rxg3+', 'fxg3,Qxg3+,Ng2', 'https://lichess.org/training/9it47');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9IUtd', 'Blitz', 'DUENDECILLOH', 2257, 'FM bernaguaro', 2249, 'e4,Nf6,Nc3,d5,e5,d4,Nce2,Ng4,f4,c5,Nf3,Nc6,h3,Nh6,b3,g6,Bb2,Bg7,d3,O-O,Qd2,f6,exf6,exf6,O-O-O,a5,g4,a4,Ng3,axb3,axb3,Nb4,Ne4,b6,Bg2,Ra2,g5,Nf5,gxf6,Bxf6,Nxf6+,Rxf6,Ne5,Ne3,Nc6,Nxc6,Bxc6,Nxd1,Rxd1,Qd6,Be4,Qxf4,Qxf4,Rxf4,b4,Bxh3', 'Bd5+,Kg7,Bxa2', 'https://lichess.org/training/9IUtd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9iwiO', 'Classical', 'Melekirem', 1750, 'man1983', 1743, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,Bd3,cxd4,cxd4,Bd7,Bc2,Nge7,Nc3,Nf5,Bxf5,exf5,Nxd5,Qa5+,Nc3,Bb4,Bd2,O-O,a3,Bxc3,Bxc3,Qa6,Qc2,Be6,Nh4,g6,Nf3,Rad8,Qd2,Bc4,Qh6,Rd5,Ng5,Rxe5+,dxe5,Re8,Qxh7+,Kf8,Qh8+,Ke7,Qf6+,Kd7,Nxf7,Bxf7,Qxf7+,Re7,e6+,Kc7,Qxg6,Qc4,Qg3+,f4,Qf3,Rxe6+,Kd2,Rd6+,Kc2', 'Nd4+,Kb1,Nxf3', 'https://lichess.org/training/9iwiO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9iZKF', 'Classical', 'Malik38', 1682, 'pacofdzv', 1656, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nxc6,bxc6,Bd3,e5,O-O,Bc5,Bg5,h6,Bh4,O-O,Nd2,Bd4,c3,Bb6,Nc4,d5,Nxe5,dxe4,Bxe4', 'Qxd1,Raxd1,Nxe4', 'https://lichess.org/training/9iZKF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9J4U6', 'Rapid', 'hamous', 1744, 'zuercheru', 1798, 'e4,c5,Bc4,e6,d4,cxd4,Qxd4,Nc6,Qd1,Nge7,c3,d5,exd5,Nxd5,Bb5,Bd7,Nf3,a6,Ba4,b5,Bb3,Nce7,Nbd2,Bc6,Ne4,Nf4', 'Nd6+,Qxd6,Qxd6', 'https://lichess.org/training/9J4U6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9J6lX', 'Rapid', 'szymek587', 1822, 'itsmonster', 1991, 'f4,e6,e4,c5,Nf3,Nc6,Bb5,Qb6,Bxc6,bxc6,Nc3,d5,e5,Ba6,d3,Ne7,O-O,Nf5,Kh1,c4,dxc4,Bxc4,Re1,a5,b3,Ba6,a4,c5,Ng5,Be7,Nxd5,exd5,Qxd5,O-O,Nxf7,Rxf7,Qxa8+,Rf8,Qd5+,Kh8,Be3,Bb7,Qd2,Nh4,Re2,Qg6,Rg1,Rd8,Qxa5,h6,Qe1,Nf5,Qf2,Bh4,Qf1,Ng3+,hxg3,Bxg3,Qf3,Bxf3,gxf3,Qh5+,Kg2,Bh4,Bf2,Qg6+,Kf1,Rd1+,Re1,Rxe1+,Bxe1,Qxg1+,Kxg1,Bxe1,Kf1,Bb4,Ke2,Kg8,c4,Kf7,Kd3,Ke6,Ke4,g6,Ke3,h5,Ke4,h4,Ke3,Be1,Ke2,Bg3', 'a5,Bxf4,a6', 'https://lichess.org/training/9J6lX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9J6PL', 'Blitz', 'CM MLev0907', 2291, 'quatschkopp', 2418, 'Nf3,c5,c4,b6,g3,Bb7,Bg2,Nf6,O-O,e6,Nc3,Be7,d4,cxd4,Qxd4,d6,Rd1,a6,b3,Qc7,Bb2,O-O,e4,Nbd7,Rac1,Rac8,Ne1,Rfe8,Nd3,Qb8,Qe3,Qa8,h3,d5,exd5,exd5,cxd5,h6,Qd4,Bd6,Re1,Nc5,Ne4,Ncxe4,Bxe4,Rxc1,Bxc1,Nxe4,Rxe4,Rxe4,Qxe4,Bxd5,Qd4,Bh1,Ne1,Bc5,Qc3,Qe4,Be3,Bb4,Qc8+,Kh7,Qc2', 'Bxe1,Qxe4+,Bxe4', 'https://lichess.org/training/9J6PL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9jcG9', 'Rapid', 'sngel01', 1716, 'BARALKU', 1683, 'd4,d5,Nf3,Nf6,e3,Bg4,g3,Ne4,Bg2,e6,O-O,Qf6,c3,h5,Qa4+,c6,Nh4,g5,Bxe4,dxe4,Ng2,Bh3,Qc2,Qf3,Ne1,Qf6,Qxe4,g4,Ng2,Bd6,b3,h4,Ba3,Bc7,Nd2,Nd7,Rfe1,O-O-O,Nxh4,Rxh4,gxh4,Rh8,f4,Rxh4,Re2,g3,Nc4,Bf5,Qg2,Rxh2,Qxg3,Rxe2,Qg8+,Bd8,Nd6+,Kc7', 'Ne8+,Kc8,Nxf6', 'https://lichess.org/training/9jcG9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9JCu7', 'Rapid', 'Stasyan1996', 1755, 'Feodosyevich', 1950, 'd4,Nf6,Bf4,d6,e3,g6,Nf3,Nh5,Bg5,f6,Bh4,g5,Nxg5,Ng7,Nf3,Bf5,Bd3,Bg6,c3,Nd7,Bg3,e5,Bxg6+,hxg6,Qc2,Nf5,O-O,Qe7,e4,Nxg3,fxg3,Qh7,Qb3,O-O-O,Nbd2,g5,d5,g4,Nh4,Bh6,Qd1,Bxd2,Qxd2,Qxe4,Rf5', 'Rxh4,gxh4,Qxf5', 'https://lichess.org/training/9JCu7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9jddD', 'Rapid', 'nike93', 1698, 'jckvrgn', 1762, 'e4,c5,b4,cxb4,a3,bxa3,Bxa3,Nc6,Bc4,Nf6,d3,g6,f4,d6,Bb2,Bg7,Nf3,Bg4,O-O,Qb6+,Kh1,Qxb2,Ra3,Bxf3,Rxf3,Nd4,Rf2,O-O,Rd2,Qb6,c3,Nc6,Rb3,Qc7,Qf3,Na5,Rb4,Nxc4,Rxc4,Qb6,Rb4,Qa6,h3,Rac8,d4,Rc4,Rb3,Rfc8,e5,Nd7,Rxb7,Qc6,Qxc6,R4xc6,Rxd7,R6c7,Rxc7,Rxc7,Rb2,dxe5,fxe5,h6,g4,e6,Kg2,f6,exf6,Bxf6,Kf3,e5,d5,Rc5,Ke4,Rc4+,Kd3,Rc5,c4', 'e4+,Kxe4,Bxb2', 'https://lichess.org/training/9jddD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9jeNF', 'Classical', 'SamirShebly', 1930, 'Grijan', 1957, 'Nf3,d5,c3,Nf6,d3,h6,Nbd2,c5,e3,Nc6,Qc2,Bf5,e4,dxe4,dxe4,Bg6,Qa4,Qd7,Bb5,Rc8,O-O,a6,Ne5', 'axb5,Nxd7,bxa4', 'https://lichess.org/training/9jeNF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Jfpc', 'Rapid', 'direstraits', 1699, 'lonewolf1010', 1783, 'e4,d6,Nf3,e5,d4,exd4,Nxd4,Nf6,Nc3,Bg4,Be2,Bxe2,Qxe2,Be7,O-O,O-O,f4,Re8,g4,Nfd7,g5,Nc5,b4,Ncd7,Bb2,Nb6,Rf3,c5,bxc5,dxc5,Nf5,Nc6,Rh3,Nd4,Qh5,h6,Nxh6+,gxh6,Qxh6,Nf3+,Rxf3,Qd4+,Kg2,Qg7,Qh4,Nc4,Rb1,Nxb2,Rxb2,Rad8,Nd5,b6,c4,Rd6,Rd2,f6,Nxe7+,Qxe7,Rxd6,Qxd6,gxf6,Qd2+,Rf2,Qd7,Qg5+,Kf7,f5', 'Rg8,Qxg8+,Kxg8', 'https://lichess.org/training/9Jfpc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9JGLO', 'Classical', 'Genius_Tactics', 1851, 'bethel', 1772, 'e4,e5,f4,d6,d4,exd4,Qxd4,Nc6,Bb5,Bd7,Qe3,Nge7,Nf3,Nb4,Bxd7+,Qxd7,Qb3,Nbc6,O-O,Rb8,Nc3,a6,a4,Nd8,f5,Nec6,Nd5,Be7,Bd2,O-O,Bc3,Ne5,Nxe5,dxe5,Bxe5,Bc5+,Kh1,Nc6,Nf6+,gxf6', 'Qg3+,Kh8,Bxf6#', 'https://lichess.org/training/9JGLO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9JiOV', 'Rapid', 'Baselmercy', 1731, 'bahadorebrahimnejad', 1741, 'f4,d5,Nf3,Nf6,g3,h6,Bg2,Bf5,O-O,e6,d4,Nc6,a3,a6,Nbd2,Bd6,c4,b6,b4,O-O,c5,bxc5,bxc5,Be7,Qa4,Nb8,Ne5,Qe8,c6,Ng4,e4,Nxe5,exf5,Nexc6,Nb3,exf5,Bxd5,Bf6,Bd2,Ra7,Rfe1,Qd8', 'Bxc6,Nxc6,Qxc6', 'https://lichess.org/training/9JiOV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9JiYw', 'Rapid', 'giresor21', 1963, 'IgorD1503', 2022, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,exd4,e5,Ne4,Bc4,dxc3,Qd5,Qe7,Qxe4,cxb2,Bxb2,d6,Bb5,Bd7,O-O,f5,Qd5,O-O-O,exd6,cxd6,Re1,Ne5,Bxd7+,Qxd7,Nxe5,dxe5,Qxe5,Bd6,Qxg7,Qb5,Na3,Bxa3,Bxa3,Rhg8,Rac1+,Kb8,Qc7+,Ka8,Be7,Rb8,Red1,Qe2,Rd8,Rgxd8,Bxd8,Qd2,Bh4,a6,h3,Rg8,Qc2,Qd5,g3,f4,a4,fxg3,fxg3,Qd4+,Kh2,Qe5,Qc5,Qe2+,Kg1,Re8,Qf2,Qe6,a5,Qxh3,Rc7,h5,Rc1,Qg4,Kg2,Qe4+,Kh2,Qg4,Qg2', 'Re2,Rc8+,Ka7,Rc2,Rxg2+', 'https://lichess.org/training/9JiYw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9JjAf', 'Classical', 'lyncon', 1704, 'alfvvv', 1835, 'e4,e5,Nf3,d6,h3,Nf6,Nc3,Be7,Bc4,O-O,Qe2,c6,d4,d5,dxe5,dxc4,exf6,Bxf6,Qxc4,Be6,Qd3,Qb6,e5,Rd8,Qe2,Be7,a3,Nd7,Qe3,Qc7,O-O,Bc5,Qe4,a5,Bg5,Re8,Na4,Bd5,Qf4,Bxf3,Qxf3,Qxe5,Bc1,Bd6,Qg3,Qd4,Be3,Qd5,Nc3', 'Bxg3,Nxd5,cxd5', 'https://lichess.org/training/9JjAf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9jLsx', 'Rapid', 'elkadice', 1774, 'Luka2012', 1793, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,Nf6,d4,exd4,Nxd4,Nxd4,Qxd4,Be7,Nc3,a6,Bf4,b5,Bd5,c5,Qe5,Nxd5,Nxd5,f6,Qh5+,Kf8,Bc7,Qe8,Qxe8+,Kxe8,Bg3,Ra7,Rad1,d6,Rfe1,Kf7,f4,Re8,e5,Bb7,Nxe7,Rxe7,exd6,Rxe1+,Rxe1,Bd5,f5,Rd7,Kf2,g5,fxg6+,Kxg6,Re7,Rd8,d7,Bc6,Bd6,Bxd7', 'Bc7,Ra8,Rxd7', 'https://lichess.org/training/9jLsx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9jNoZ', 'Classical', 'LazarVuckovic', 1783, 'bakhti', 1779, 'd4,Nf6,Bg5,e6,c4,c5,Nf3,cxd4,Nxd4,Nc6,e4,Be7,Nxc6,bxc6,Qd4,Qa5+,Bd2,Qb6,Qc3,Nxe4,Qf3,Nxd2,Nxd2,Qxb2,Rb1,Qxa2,Bd3,Bg5,Nb3,Rb8,O-O,Rxb3,Rxb3,Qxb3,Rb1,Qc3,h3,O-O', 'Bxh7+,Kxh7,Qxc3', 'https://lichess.org/training/9jNoZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9jq5E', 'Blitz', 'Parwis', 2475, 'kapinovo', 2488, 'd4,Nf6,Bg5,Ne4,h4,c5,dxc5,Nxg5,hxg5,Nc6,Nd2,g6,c3,Bg7,Ngf3,O-O,Nc4,Na5,e3,Nxc4,Bxc4,Qa5,Qd5,b6,Qxa8,Qxc5,Qd5,Qc7,Bb3,Bxc3+,bxc3,Qxc3+,Ke2', 'Ba6+,Bc4,Bxc4+,Qxc4,Qxc4+', 'https://lichess.org/training/9jq5E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9JQ9M', 'Rapid', 'jebisesome', 1854, 'Peter2rabit', 1632, 'd4,Nf6,e3,c5,c3,cxd4,cxd4,g6,f4,Bg7,Nf3,O-O,Bd3,d6,Nbd2,Bg4,Ne4,Nxe4,Bxe4,Nc6,h3,Bxf3,Bxf3,e6,O-O,Rb8,a3,Ne7,b4,Nf5,Qd3,Ng3,Rf2,Bf6,Rc2,Bh4,Bd2,f6,Rac1,e5,dxe5,fxe5,fxe5,dxe5,Qxd8,Rbxd8,Be1,e4,Bg4', 'Rf1+,Kh2,Rh1#', 'https://lichess.org/training/9JQ9M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9JSog', 'Rapid', 'Jandycrowns', 2109, 'Pantera64', 2088, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Nc3,Nf6,Bc4,Bb4,Qf3,O-O,O-O,Bb7,Bg5,Be7,Rad1,h6,Bh4,Qc7,Bb3,Rad8,Bg3,Qc8,Qf5,d6,Qf3,d5,exd5,cxd5,Bxe5', 'd4,Qg3,dxc3', 'https://lichess.org/training/9JSog');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9JUDh', 'Classical', 'VISHAAL-KUMAR', 2073, 'sitras', 2119, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,c4,Nf6,Nc3,Bb4,Bd3,Qc7,h3,Nc6,Nxc6,bxc6,Be3,d5,cxd5,cxd5', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/9JUDh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Juu0', 'Rapid', 'blanco_nino', 1601, 'pasavand48', 1604, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Bg4,Be2,c6,O-O,e6,h3,Bxf3,Bxf3,Nf6,d4,Nd5,Bxd5,cxd5,g3,Bd6,a3,Nc6,b4,a6,Na4,Qc7,Nc5,O-O,c3,b6,Nd3,Rad8,Re1,e5,Qg4,f6,Bh6,Rf7,f4,exd4,f5,Ne5,Nxe5,fxe5,f6,g6,cxd4,e4,Qe6,Bf8,Bxf8,Kxf8,Kg2,Qd6,Qe5,Rxf6,Rf1,Rxf1,Rxf1+,Kg8,Qg5,b5,Rf6,Qe7', 'Rxg6+,hxg6,Qxe7', 'https://lichess.org/training/9Juu0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9jwAD', 'Classical', 'oktabadi', 1967, 'willthal', 1958, 'd4,d5,c4,e6,Nf3,Nf6,Bg5,Be7,Nc3,O-O,e3,c5,cxd5,Nxd5,Bxe7,Qxe7,Nxd5,exd5,dxc5,Qxc5,Qd2,Nc6,Rc1,Qb4,Qxb4,Nxb4,a3,Nc6,Bd3,d4,Nxd4,Nxd4,exd4,Re8+,Be2,Bf5,f3', 'Bd3,Kd2,Bxe2', 'https://lichess.org/training/9jwAD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9jwlT', 'Blitz', 'S_007', 1585, 'nikkolat', 1580, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,c5,Qe3,d6,Nc3,Be6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Be7,Nd5,Nf6,Nxf6+,Bxf6,c3,O-O,h3,Rfe8,f3,d5,Qxc5,dxe4,Bf4,exf3,Rxf3,Be7,Qf2,b6,Qg3,Bc5+,Kh1,g6,Bh6,Bd6,Qg5,Qe7,Qd2,Qe2,Qd4,Be5,Qf2,Qxf2,Rxf2,Bg3,Rf3,Bc7,Rd1,Re2,Kg1,Rae8,Rff1,Rxb2,Rd7,Bg3,Rfxf7,Rb1+,Rf1', 'Rxf1+,Kxf1,Re1#', 'https://lichess.org/training/9jwlT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9jyXz', 'Rapid', 'dvaesjedan', 1699, 'shareef4444', 1753, 'd4,c5,d5,e6,e4,exd5,exd5,d6,Nc3,Bf5,Be3,Nf6,f3,Nbd7,Nge2,Nb6,b3,Be7,Qd2,O-O,Bg5,h6,Bxf6,Bxf6,O-O-O,c4,Ne4,Bxe4,fxe4,Re8,Ng3,cxb3,axb3,Rc8,Nf5,Bg5,Ne3,Qc7,Re1,Rxe4,c4,Nxd5,Qxd5,Rxe3,Rxe3,Bxe3+,Kc2,a6,Bd3,b5,Rf1,bxc4,Bxc4,a5', 'Rxf7,Qxf7,Qxf7+', 'https://lichess.org/training/9jyXz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9K16s', 'Rapid', 'sebastian101', 1778, 'Rafik69', 1794, 'e4,e5,Nf3,d5,exd5,Qxd5,Nc3,Qe6,b3,Nc6,Bb2,Bd7,Nb5,O-O-O,Bc4,Qe8,O-O,a6,Nc3,Na5,Re1,Nxc4,bxc4,f6,Nd5,Bc6,Ne3,g5,d3,g4,Nd2,Nh6,Nb3,Qg6,Na5,Bd7,Rb1,b6,Nb3,Bc6,Bc3,e4,Nd4,Bb7,Ne6,Rd6,Nf4,Qf7,Nxg4,Nxg4,Qxg4+,Kb8,dxe4,Rg8,Qf5,Rg5,Qh3,Bc8,Qe3,Bh6,e5,Re6,c5,Rg4,g3,b5,Qf3,fxe5,Qxg4,exf4,Rxe6,Bxe6,Qh4,Qg6,Be5', 'Bg5,Qxg5,Qxg5', 'https://lichess.org/training/9K16s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9K5xM', 'Blitz', 'FerryMF', 2207, 'RAW0N', 1971, 'b3,e5,Bb2,Nc6,Nf3,Bd6,g3,Nf6,Bg2,O-O,O-O,a5,a3,Rb8,d4,exd4,Nxd4,Re8,Nc3,Nxd4,Qxd4,Be5,Qd2,c6,e4,b5,f4,Bxc3,Qxc3,b4,axb4,axb4,Qf3,Nxe4,Rad1,Qb6+,Bd4,c5,Be5,d6,Qxe4,dxe5,fxe5,Bb7,Qf4,Bxg2,Qxf7+,Kh8,Kxg2,Qh6,Rf4,Qc6+,Kg1,h6,Rd7,Rg8,e6,Rbe8,Rf6,Qe4,Rxh6+,gxh6', 'Qf6+,Rg7,Qxg7#', 'https://lichess.org/training/9K5xM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9k8qb', 'Classical', 'Juanpablorodriguez', 1983, 'andjeogabriel', 2112, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,d6,c3,Na5,Bc2,c5,h3,O-O,d4,Qc7,dxc5,dxc5,Bg5,Be6,a4,Nc4,Qc1,Rfd8,axb5,axb5,Rxa8,Rxa8,Nbd2,Nxd2,Qxd2,h6,Bh4,Rd8,Qc1,c4,Bg3,Nd7,Nh4,Bxh4,Bxh4,f6,Bg3,Nc5,f4,Nd3,Bxd3,cxd3,Qd2,Bc4,fxe5,fxe5,Kh2,Rf8,Re3,Qe7,b3,Bxb3,Rxd3,Bc4,Rd7,Qf6,Rd6,Qf1,Bxe5', 'Rf2,Rd8+,Kh7,Qxf2,Qxf2', 'https://lichess.org/training/9k8qb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9k9lp', 'Rapid', 'Superplume', 1684, 'andrewben', 1610, 'd4,d5,Nf3,Nf6,Nc3,Bf5,h3,e6,a3,Nc6,e3,Bd6,Nh4,Bg6,Nxg6,hxg6,Bb5,Qd7,Qf3,a6,Bd3,O-O-O,b4,Qe7,Qe2,e5,dxe5,Qxe5,Bb2,Rhe8,O-O-O,Qg5,Bxa6,bxa6,Qxa6+,Kd7,Qb5,Qxg2,Nxd5,Nxd5,Qxd5,Qxd5,Rxd5,f6,Rhd1,Ne5,Bxe5,fxe5,b5,Ra8,Kb2,Rxa3', 'Rxd6+,cxd6,Kxa3', 'https://lichess.org/training/9k9lp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9kBgg', 'Rapid', 'arabian1knight', 1812, 'smokey18', 1699, 'Nf3,c5,e4,g6,Nc3,Nc6,a3,Bg7,Bc4,Nf6,Ng5,O-O,d3,e6,h3,d5,exd5,exd5,Ba2,Re8+,Ne2,h6,Nf3,Be6,O-O,Qd7,Kh2,Rad8,Bf4,Nh5,Bc1,Ne5,Nxe5,Bxe5+,f4,Bc7,c3,Bf5,Ng1,Qb5,c4,dxc4,Bxc4,Qc6,g4,Ng7,gxf5,Nxf5,a4,Rd4,Bb5,Qd5,Qf3,Qxf3,Nxf3,Re2+,Kh1,Ng3+,Kg1,Nxf1,Nxd4,cxd4,Kxf1,Rh2,Bd7,f5,Bc8,b6,Be6+,Kg7,b3,Rxh3,Ba3', 'Rh1+,Kf2,Rxa1', 'https://lichess.org/training/9kBgg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9kd6e', 'Rapid', 'alan_rmnz', 1751, 'PedroHumanes', 1822, 'd4,d5,Bf4,Nf6,Nc3,a6,Qd2,Bf5,e3,e6,Nf3,Nc6,a3,Bd6,Bg5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Rxh2,Rxh2,Bxh2,g3,Qd6,Bh4,Ne4,Nxe4,Bxe4,O-O-O,Ne7,f4,Bg1,Bh3,Bxe3,Qxe3,O-O-O,g4,Rh8,Bf6', 'Rxh3,Qxh3,Qxf4+,Rd2,Qxf6', 'https://lichess.org/training/9kd6e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9KE2B', 'Rapid', 'Loschoux', 1657, 'amp', 1649, 'e4,e5,f4,exf4,Nf3,d6,d4,Bg4,Bxf4,Nf6,Bc4,Nxe4,h3,Bh5,O-O,d5,Bb3,Bd6,Bxd5,Bxf4,Bxb7,Nd7,Bxe4,Rb8,Qe2,O-O,Nc3,Re8,Qd3,g6,g4,Bxg4,hxg4,Nf6,Rf2,Nxg4,Rg2,Nf6,Kf2,Rxb2,Rag1,Re7,Bxg6,fxg6,Rxg6+,hxg6', 'Qxg6+,Kf8,Qxf6+', 'https://lichess.org/training/9KE2B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9KFFQ', 'Rapid', 'jotaele89', 1936, 'Priv7', 1903, 'e4,e5,Nf3,Nf6,Nc3,d6,d4,exd4,Nxd4,Be7,Bd3,O-O,O-O,c6,f4,Nbd7,Nf5,Re8,Qf3,Bf8,Qg3,Nc5', 'Nh6+,Kh8,Nxf7+', 'https://lichess.org/training/9KFFQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9kFMV', 'Rapid', 'tcdcygma', 1839, 'General_Paradox', 2149, 'd4,e5,dxe5,d6,exd6,Bxd6,Nf3,Bg4,e3,Nc6,Nc3,Qf6,Nd5,Qf5,Be2,O-O-O,O-O,Qh5,h3,f5,c4,Nf6,Qc2,Rhg8,b3,Bxh3,gxh3,Qxh3,Rd1,Ng4,Qxf5+,Kb8,Bf1', 'Bh2+,Kh1,Nxf2#', 'https://lichess.org/training/9kFMV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Kh2b', 'Classical', 'AlfredSibanda', 1901, 'Mocarny', 1882, 'd4,d5,Bf4,c5,e3,Nf6,Nf3,Bg4,Nbd2,Nh5,Bg3,Nxg3,hxg3,e6,c3,Bd6,Bd3,c4,Be2,b5,a4,b4,cxb4,Bxb4,Ne5,Bxe2,Qxe2,Nd7,Nc6,Bxd2+,Qxd2,Qb6,Nb4,a5,Na2,Rb8,Rb1,O-O,Qc2,Rfc8,Qxh7+,Kf8,Qh8+,Ke7,Qxg7,Qb3,Nc3', 'Qxc3+,bxc3,Rxb1+,Ke2,Rxh1', 'https://lichess.org/training/9Kh2b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9kiAw', 'Rapid', 'ratnikmora', 1906, 'Bakorian', 1710, 'f4,Nc6,Nf3,d6,g3,Bg4,Bg2,Nf6,c3,a6,O-O,e5,d3,h6,e4,exf4,Bxf4,Be7,Nbd2,g5,Be3,Qd7,Qb3,Be6,Qc2,g4,Nd4,Nxd4,Bxd4,h5,Be3,h4,d4,hxg3,hxg3,Nh5,d5,Nxg3,dxe6,Qxe6,Qb3,Qg6,Qxb7,Rd8,Qc6+,Rd7,Qd5,Nxf1,Rxf1,Qh7,Qf5,Qh2+,Kf2,Bh4+,Ke2,Qxg2+,Kd3,d5', 'Qe5+,Be7,Qxh8+', 'https://lichess.org/training/9kiAw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9KMVN', 'Classical', 'chessmaster512', 1897, 'master_plaster', 1778, 'e4,b6,d4,Bb7,Nc3,e6,Bf4,Bb4,Bd3,g5,Bg3,h5,h4,gxh4,Bxh4,Qc8,a3,Be7,Bg3,h4,Be5,f6,Bf4,Nc6,Nb5,d6,Nf3,a6,Nc3,e5,dxe5,dxe5,Be3,Qg4,Nd5,O-O-O,b4,Nd4,Nxe7+,Nxe7,Bxd4,exd4,a4,Bxe4,Bxa6+,Kb8,Rg1,Bxf3,Qxf3,Qxf3,gxf3,h3,Rh1,Nc6,Bf1,Nxb4,Rc1,Na2,Ra1,Nb4,Rc1,Rde8+,Kd2,Na2,Rb1,Nc3,Rb3,Nxa4,Bb5,Nc3,Bxe8,Rxe8,Rxh3,Re2+,Kd3,Rxf2,Kxd4,Ne2+,Ke3,Rg2,c4,Nc1,Ra3,Na2,Rh8+,Kb7,Rf8,Nb4,Rb3,Nc2+,Kf4,Nd4,Rd3', 'Ne6+,Kf5,Nxf8', 'https://lichess.org/training/9KMVN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9kN66', 'Rapid', 'TracWar', 1744, 'magnocarlesen3', 1828, 'd4,e5,dxe5,Bc5,Nf3,d6,exd6,h6,dxc7', 'Bxf2+,Kxf2,Qxd1', 'https://lichess.org/training/9kN66');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9kOzh', 'Blitz', 'WarScar', 1528, 'fred067', 1554, 'c4,e6,Nc3,Bb4,a3,Bxc3,dxc3,h6,Be3,a6,Qc2,Nf6,O-O-O,d6,Bd4,Bd7,e4,Bc6,f3,Nbd7,Ne2,Nh5,g4,Nhf6,h4,e5,Be3,Nb6,Ng3,Ba4,Qd2,Bxd1,Qxd1,Qd7,c5,dxc5,Qxd7+,Nfxd7,Bg2,Na4,Nf5,O-O,g5,hxg5', 'Ne7+,Kh7,hxg5#', 'https://lichess.org/training/9kOzh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9kpVa', 'Rapid', 'Alximik1861', 1831, 'cacofonix342', 1974, 'e4,Nc6,Nf3,f5,e5,d6,d4,dxe5,d5,e4,Ng5,Ne5,Bf4,Ng6,Bb5+,Bd7,Bxd7+,Qxd7,Ne6,Nxf4,Nxf4,Nf6,Nc3,O-O-O,Ne6,Re8,O-O,g6,Qe2,a6,Rfd1,Bh6,b4,c6,dxc6,Qxe6,cxb7+,Kxb7,Na4,Nd7', 'Rxd7+,Qxd7,Nc5+,Kc7,Nxd7', 'https://lichess.org/training/9kpVa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9KTTU', 'Blitz', 'IM Panesso', 2413, 'IM darkghoul', 2759, 'Nf3,g6,g3,Bg7,Bg2,e5,c4,Nc6,d3,Nge7,Nc3,O-O,Bg5,h6,Bxe7,Nxe7,O-O,d6,Nd5,Nf5,e3,c6,Nc3,Be6,Qe2,Ne7,d4,Qa5,Rfd1,Rad8,a3,f5,b4,Qc7,Rac1,Bf7,d5,e4,Nd4,Qb8,dxc6,bxc6,b5,c5,Nc6,Nxc6,bxc6,Bxc3,Rxc3,Qc7,f3,Qxc6,fxe4,fxe4,Qg4,Rde8,Rc2,Kg7,Rcd2,Re6,Rb2,Rfe8,Qe2,R8e7,Rb8,Kh7,Qb2,Re8,Rxe8,Rxe8,Qf6,Kg8,Rxd6,Qa4,h4,Qxa3,Rd7,Qxe3+,Kh2,Rf8,Rxf7,Rxf7,Qxg6+,Kf8,Qd6+,Kg7,Qe5+,Kg8,Qe8+,Rf8,Qe6+,Kg7,Qe7+,Rf7,Qe5+,Kh7', 'Bxe4+,Kg8,Bh7+,Kxh7,Qxe3', 'https://lichess.org/training/9KTTU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9kUe1', 'Blitz', 'Classemence', 2101, 'Marina170911', 2125, 'e4,e5,Nf3,d5,Nxe5,Qe7,d4,f6,Ng4,Qxe4+,Be2,Bxg4,f3,Bxf3,gxf3,Qh4+,Kf1,Bd6,Nc3,Qh3+,Kg1,Nc6,Bf1,Qf5,Qe1+,Nge7,Be3,O-O,Bd3,Qxf3,Qf2,Qxf2+,Kxf2,Rad8,Rag1,g6,h4,f5,Bg5,Nxd4,h5,Ne6,hxg6,Bc5+,Be3,Bxe3+,Kxe3,d4+,Kf2,dxc3,gxh7+,Kh8,Bc4,Rd2+,Kf3,cxb2,Bxe6,b1=Q', 'Rg8+,Rxg8,hxg8=Q#', 'https://lichess.org/training/9kUe1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9KYjQ', 'Rapid', 'addyahardikar', 1799, 'vpka', 1813, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d6,h3,f5,Nc3,Nf6,d3,Be7,Bb3,Nd4,Nxd4,exd4,Ne2,c5,Bg5,fxe4,Bxf6,Bxf6,dxe4,b5,c4,dxc3,Nxc3,c4,Bc2,O-O,Nd5,Kh8,Qh5,h6,Qg6,Qa5+,b4,Bc3+,Kf1,Bxb4', 'e5,Bf5,Bxf5,Rxf5,Qxf5', 'https://lichess.org/training/9KYjQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9l48Z', 'Blitz', 'BATRAZ_GABOEV', 2303, 'Fringe5926', 2304, 'e4,e5,Nf3,Nc6,d4,exd4,c3,d5,e5,dxc3,Bb5,Be6,O-O,Bc5,Nxc3,Ne7,Na4,Bb6,Nxb6,axb6,Kh1,O-O,Bf4,Ng6,Bg3,Qe7,a3,Qc5,Bd3,Rad8,Ng5,Qd4,Qh5,h6,Bxg6', 'fxg6,Nxe6,gxh5,Nxd4,Nxd4', 'https://lichess.org/training/9l48Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9L5SI', 'Blitz', 'Kaloyski', 2128, 'LouisHavenga', 2154, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d6,Nc3,Nf6,Be3,Be7,Be2,O-O,Qd2,Nd7,O-O-O,Bf6,f4,Bxd4,Bxd4,Nxd4,Qxd4,Nb6,f5,Qe7,g4,Re8,Bf3,Qe5,Qd2,Nc4,Qe2,b5,Rd5,Qf4+,Kb1,c6,Rd3,b4,Nd1,Ba6,Qg2,Ne5,Rb3,c5,Be2,Bxe2,Qxe2,Nxg4,Rg3,Rxe4,Qg2,Ne3,Rxg7+,Kh8,Nxe3,Qxe3,b3,Rae8,f6,Qc3', 'Rxh7+,Kxh7,Qg7#', 'https://lichess.org/training/9L5SI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9L7Dj', 'Blitz', 'p1a2v3a4n5', 1666, 'Leonard42', 1720, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Bf5,Bd2,c6,Ne4,Qc7,Bd3,g6,Nf3,Bg7,c3,Nd7,O-O,Nh6,Qc1,Ng4,h3,Ngf6,Nxf6+,Nxf6,Bxf5,gxf5,Qc2,O-O-O,Qxf5+,e6,Qc2,Rhg8,a4,Bh8,b4,Rg6,b5,cxb5,axb5,b6,Ne5,Rg7,Nc6,Rdg8,g3', 'Rxg3+,fxg3,Qxg3+,Kh1,Qxh3#', 'https://lichess.org/training/9L7Dj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9LaAC', 'Blitz', 'Powerman10', 1658, 'codenamex', 1658, 'd4,d5,c4,dxc4,e3,Nf6,Bxc4,e6,Nf3,Bb4+,Qd2,Nc6,Nc3,Ne4,a3,Nxd2,Bxd2,Bxc3,Bxc3,O-O,d5,exd5,Bd3,Bg4,O-O-O,Bxf3,gxf3,Qh4,Rhg1,f6,Rg4,Qxh2,Rdg1,Qxf2', 'Rxg7+,Kh8,Rxh7#', 'https://lichess.org/training/9LaAC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9lbuc', 'Blitz', 'linsch', 1683, 'Folies', 1844, 'd4,d5,c4,e5,Nc3,c6,dxe5,d4,Ne4,Bf5,Ng3,Bg6,f4,Bb4+,Bd2,Qa5,Bxb4,Qxb4+,Qd2,Na6,Nf3,O-O-O,f5,Qxd2+,Nxd2,Ne7,fxg6,Nxg6,Nde4,Nxe5,Nd6+,Rxd6,Nf5,Rf6,Nxg7,Rg8,Nh5,Rf5,Ng3,Rfg5,O-O-O,c5,Ne4,R5g6,g3,Nxc4,Bg2,Ne3,Bh3+,Kb8,Rd3,Nb4,Rb3,Nxa2+,Kb1,Nb4,Nxc5,Nbd5,Rxb7+,Ka8,Rxf7,Rh6,Bd7,Nb6,Bb5,Rh5,Bc6+,Kb8,Nd7+,Nxd7,Rxd7,Rc5,Be4,Rf8,Rc1,Rxc1+,Kxc1', 'Rf1+,Kd2,Rd1#', 'https://lichess.org/training/9lbuc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9LcAS', 'Rapid', 'Phemel0', 1937, 'aetna', 1937, 'd4,Nf6,Nf3,g6,g3,Bg7,Bg2,O-O,c4,c5,d5,d6,O-O,Nbd7,Qb3,Qb6,Nbd2,Ne5,Nxe5,dxe5,Qxb6,axb6,Nf3,e4,Ng5,Bf5,Bf4,h6,Nh3,Nh5,Bc1,Rfd8,f3,exf3,exf3,Nf6,g4,Bd3,Re1,Bxc4,Rxe7,Bxd5,a3,Bc6,g5,Nd5,Re1,h5,f4,Bd4+,Kf1,Re8,Rb1,Ne3+,Bxe3,Bxe3,Bxc6,bxc6,Kg2,Rad8,Kf3,Rd3,Kg2,Kf8,Re2,Rd2,Re1,Rxe2+,Rxe2,Bd4,Rxe8+,Kxe8,b3,b5,Kf3,c4,bxc4,bxc4,Ke2,Bc5,a4,Bb4,Kd1,c3,Kc2,c5,Nf2,Kd7,Nd3,Kc6', 'Ne5+,Kd5,Nxf7', 'https://lichess.org/training/9LcAS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9lCZq', 'Rapid', 'Argie', 1809, 'collarblind', 2004, 'd4,e6,Bf4,d5,e3,Nf6,Nd2,c5,c3,Nc6,Ngf3,a6,a4,h6,h3,cxd4,exd4,Bd6,Ne5,O-O,Bd3,Qc7,Ndf3,Nd7,Qe2,Re8,Bc2,f6,Qd3,f5,g4,Ndxe5,dxe5,Nxe5,Bxe5,Bxe5,gxf5,exf5,O-O-O,Bd7', 'Qxd5+,Be6,Qxe5,Qxe5,Nxe5', 'https://lichess.org/training/9lCZq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9LDAk', 'Blitz', 'pierre250', 1562, 'leskivinnainna', 1503, 'e4,e5,Nf3,d6,d4,f6,dxe5,fxe5,Bg5,Be7,Bxe7,Nxe7,Bd3,a6,O-O,Ng6,a4,Bd7,Qd2,Nc6,Bc4,Qf6,Nc3,Nf4,Nd5,Qg6,Nxf4,exf4,Qxf4,O-O-O,Nh4,Qe8,Bd5,h6,Qg3,g5,Nf3,Ne5,Nxe5,Qxe5,Qb3,c6,Bc4,Qxe4,a5,h5,Ra4,Qe5,c3,c5,Qb6,Bxa4,Bxa6,Bc6', 'Qxc6+,Kb8,Qxb7#', 'https://lichess.org/training/9LDAk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9lGKX', 'Rapid', 'Rolffael', 1861, 'canofcoolhwip', 1673, 'd4,d5,c4,dxc4,e3,Nf6,Bxc4,c6,h3,e6,a3,b5,Ba2,a5,Nc3,a4,Nf3,h6,O-O,Bd6,Ne5,O-O,Qf3,Bb7,b3,axb3,Bxb3,Qc7,Qe2,Bxe5,dxe5,Qxe5,Bb2,Qg5,f4,Qg6,Bc2,Qh5,Rf3,c5,e4,Nbd7,Nxb5,Ba6,Bd3,Rfb8,a4,e5,Rb1,exf4,Nc7,Bxd3,Qxd3,Ne5,Bxe5,Rxb1+,Qxb1,Rxa4,Bxf6,gxf6,Rxf4,Qe5,Rg4+,Kh7,Nb5,c4,Qc1', 'Ra1,Qxa1,Qxa1+', 'https://lichess.org/training/9lGKX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9LIqq', 'Rapid', 'A_Dolphin_Her', 1601, 'dtoledo', 1695, 'e4,c5,Bb5,a6,Bc4,b5,Bd5,Ra7,Nf3,Bb7,O-O,Nc6,d3,Nf6,Be3,e6,Bxc6,Bxc6,e5,Nd5,Bg5,Be7,Qd2,O-O,c4,Bxg5,Nxg5,Nb4,a3,Nxd3,Nxe6,dxe6,Rd1,Rd7,Nc3,Nxe5,Qe2,Rxd1+,Rxd1,Qb8,cxb5,Bxb5,Nxb5,Qxb5,Qxe5,Rb8,Rd2,h6,h3,a5,Kh2,c4', 'Rd8+,Rxd8,Qxb5', 'https://lichess.org/training/9LIqq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9lK1g', 'Rapid', 'giuzen51', 1719, 'blearner', 1686, 'e4,e6,d4,d5,exd5,exd5,Bd3,Nf6,h3,Bd6,Nf3,O-O,Ne5,Re8,Bf4,Nfd7,O-O,f6,Nxd7,Bxf4,Qh5,Bh6,Qxd5+,Kh8,Bf5,Nxd7,Nc3,Nb6,Qf3,Bxf5,Qxf5,c6,Rad1,Qc7,g3,Rad8,Rfe1,Nc4,b3,Nd6,Qh5,Qf7,Qf3,Re6,d5,cxd5,Nxd5,Rxe1+,Rxe1,Nc8,Nf4,Bxf4,Qxf4,Qd7,Qe4,Nd6,Qd4,h6,Kh2,Nb5,Qf4,Qd2', 'Re8+,Rxe8,Qxd2', 'https://lichess.org/training/9lK1g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Ln2u', 'Rapid', 'SergAles', 1656, 'abbess', 1640, 'e4,b6,Nc3,e6,Nf3,Be7,d4,d6,h3,Bb7,Bd3,Nd7,a3,c5,d5,exd5,exd5,Ngf6,Bc4,a6,a4,h6,O-O,O-O,Nh4,Ne5,Ba2,c4,Nf5,Rc8,Qe2,Re8,f4,Ned7,Rf3,Nxd5,Rg3,Bf6,Qg4,Re1+,Kh2,Qf8,Nxd5,Bxd5,Nxh6+,Kh7,Nf5,g6,Ne3,Bb7,Nxc4,Rce8,Qxd7,Bxg2,Rxg2,Qh6,Qxf7+,Bg7,Rb1,Qh4,Bd2,R1e6,Rbg1,R8e7,Rg4', 'Re2+,R1g2,Rxg2+,Rxg2,Rxf7', 'https://lichess.org/training/9Ln2u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9lNeA', 'Rapid', 'Mercuryjon', 1706, 'leo29392', 1714, 'Nf3,d5,g3,e6,Bg2,Nf6,O-O,Be7,d3,O-O,Nbd2,b6,b3,Nc6,Bb2,Ba6,Re1,Qd7,e4,dxe4,dxe4,Rad8,e5,Nd5,h4,b5,Ne4,Qe8,Qe2,Nb8,Nh2,b4,Qg4,Nc6,Nf3,Bc8,Rad1,f6,exf6,Nxf6,Nxf6+,Bxf6,Bxf6,Rxf6,Rxd8,Nxd8,Ne5,Qb5,h5,Qc5,h6', 'Qxf2+,Kh2,Rxh6+', 'https://lichess.org/training/9lNeA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9loo2', 'Rapid', 'Andrei1010', 1893, 'Petr300914', 1674, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d3,O-O,Bg5,h6,Bh4,Be7,O-O,d6,Nd2,Ng4,Bxe7,Qxe7,h3,Nf6,f4,exf4,Rxf4,Ne5,Qe1,Nh5,Rf1,Qg5,Qf2,Bxh3,Nf3,Nxf3+,Qxf3,Bg4,Qf2,Qf6,Qxf6,Nxf6,Rxf6,gxf6,Nd5,c6', 'Nxf6+,Kg7,Nxg4', 'https://lichess.org/training/9loo2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9lsP2', 'Rapid', 'leonardospada', 1785, 'allgo', 1775, 'd4,d5,Bf4,Nf6,Nf3,e6,e3,Be7,Nbd2,Bd7,c4,c6,Qc2,O-O,Bd3,Nh5,Bxh7+,Kh8,Bd3,Nxf4,exf4,Na6,Ne5,Nb4,Qb1,Nxd3+,Qxd3,Bf6,Ndf3,Bxe5,fxe5,f6,O-O,f5,Rac1,Be8,Qe3,Bh5,Ng5', 'f4,Nxe6,fxe3', 'https://lichess.org/training/9lsP2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Lt7g', 'Classical', 'ev00', 1691, 'MITa_m', 1801, 'e4,c5,Nf3,Nc6,Bb5,e6,O-O,Nge7,c3,a6,Bxc6,Nxc6,d4,cxd4,cxd4,d5,exd5,exd5,Re1+,Be7,Nc3,Kf8,Qb3,Be6,Qxb7', 'Na5,Qxa8,Qxa8', 'https://lichess.org/training/9Lt7g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9LTiK', 'Blitz', 'IM www68', 2518, 'RAG0406', 2416, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,O-O,Bd7,Re1,Nc6,Nde2,a6,a4,Rc8,Nd5,Na5,Bg5,Nxd5,exd5,Bxb2,Rb1,Bg7,Nd4,f6,Bd2,Bxa4,Bxa5,Qxa5,Rxb7,Rc7,Rxe7,Rxb7,Rxb7,Rf7,Rxf7,Kxf7,Qe2,Bd7,h4', 'Qa1+,Bf1,Qxd4', 'https://lichess.org/training/9LTiK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9LULo', 'Rapid', 'sami4arts', 1766, 'HallowPawn', 1796, 'e4,c5,d3,d6,a3,Nf6,h3,e5,Nc3,a6,Bg5,Be7,Nd5', 'Nxd5,exd5,Bxg5', 'https://lichess.org/training/9LULo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9LvRd', 'Rapid', 'johnlennin', 1729, 'Oleksandr-dera', 1754, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,Qb3,Qa5,Be3,cxd4,Bxd4,Nxd4,Nxd4,a6,Bd3,Ne7,O-O,Nc6,Nxc6,bxc6,Nd2,Bc5,Qc2,Ba7,b4,Qb6,Nf3,h6,Nd4,O-O,a4,c5,a5,Qc7,Nf3,c4,Be2,Bd7,Kh1,Rab8,Rae1,Qd8,h3,Qe8,Qc1,Qe7,Bd1,Rb7,Bc2,f5,exf6,Rxf6,Nh4,Bb8,Ng6,Qf7,f3,Be8,Ne5,Qc7,f4,Qe7,Ng4,Rf8,Ne5,Qh4,Bg6', 'Bxe5,Bxe8,Bxf4', 'https://lichess.org/training/9LvRd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9LwLs', 'Blitz', 'Maximus8956', 2079, 'FM BlackCrowes', 2365, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,Nc6,Nf3,d6,Bg5,h6,Bh4,e5,e3,exd4,Nxd4,Nxd4,exd4,Qe7+,Be2,O-O,O-O,Bxc3,bxc3,Qe4,Qxe4,Nxe4,Rfc1,f5,f3,Nf6,Kf2', 'g5,Bg3,f4,Bxf4,gxf4', 'https://lichess.org/training/9LwLs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9LXhn', 'Blitz', 'Hansamweiher', 1921, 'josemanto03', 1999, 'g3,c6,Bg2,d5,c4,e6,Nf3,Ne7,O-O,Ng6,b3,Be7,Bb2,Bf6,d4,O-O,h4,Nd7,h5,Ne7,Nbd2,b6,e4,dxe4,Nxe4,Nf5,g4,Nh4,Nxh4,Bxh4,f4,Bb7,g5,c5,Qg4,f5,Qxh4,fxe4,Qg4,Qe7,Bh3,Rae8,d5,Rf5,dxe6,e3,exd7,Rd8,Qxf5,e2,Rfe1', 'Qe3+,Kh2,Qf2+,Bg2,Qxg2#', 'https://lichess.org/training/9LXhn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9LXVA', 'Blitz', 'Eliotalderson', 1804, 'BrianOG', 1796, 'e4,e5,Nf3,d6,Bc4,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Nc3,Be7,O-O,O-O,Re1,a6,e5,dxe5,Qxe5,Bd6,Qd4,Ng4,Qd5,Bxh2+,Kh1,Qh4', 'Qxf7+,Rxf7,Re8#', 'https://lichess.org/training/9LXVA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9LZYJ', 'Blitz', 'irzveksij556', 1535, 'Akien', 1567, 'e4,e5,Nf3,Nc6,Bc4,Nf6,c3,a6,O-O,d5,exd5,Na5,Qa4+,b5,Qxa5,bxc4,Nxe5,Qxd5,Qa4+,Bd7,Qxc4,Qxe5,d4,Qd5,Qd3,Bc6,f3,Be7,c4,Qh5,d5,Bb7,Re1,Rd8,Nc3,Rd7,b3,O-O,Bf4,Bc5+,Kh1,Bd6,Bxd6,Rxd6,Rad1,c6,Qe3,cxd5,cxd5,Nxd5,Nxd5,Bxd5,Qe7,Rh6,h3,Bxf3', 'Qxf8+,Kxf8,Rd8#', 'https://lichess.org/training/9LZYJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9M20p', 'Rapid', 'JhonatanDavid', 1740, 'andreykin_01', 2110, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Be7,O-O,O-O,Re1,Nc6,Nc3,Bg4,h3,Bh5,Bf4,Rc8,Bf5,Ra8,Nb5,Bd6,Nxd6,cxd6,Qd3,g6,Bg4,Nxg4,hxg4,Bxg4,Re3,Ne7,Bh6,Nf5,Bxf8,Nxe3,Qxe3,Qxf8,Qb3,Bxf3,Qxf3,Qc8,Qxd5,Qxc2,Qxb7,Re8,Qb3,Re2,Qb8+,Kg7,Qxd6,Rxf2,Qe5+,f6,Qe7+,Kh6', 'Qe3+,g5,Qxf2', 'https://lichess.org/training/9M20p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9m5sh', 'Classical', 'Back2Revenge', 1888, 'ivanchess2', 1914, 'e4,e5,Nf3,d6,Bc4,h6,d4,exd4,Qxd4,Nf6,e5,Nh7,O-O,Be7,Bxf7+,Kxf7,Qf4+,Kg8,Nc3,Be6,Qe4,Nd7,exd6,Bxd6,Qxe6+,Kf8,Be3,Qe8,Qf5+,Qf7,Qb5,b6,Bd4,Nhf6,Rfe1,Rd8,Ne5,Bxe5,Bxe5,Nxe5,Rxe5,Qd7,Qb4+,c5,Qf4,Kf7,Rae1,Rhe8,Qc4+,Kf8,h3,Rxe5,Rxe5,Re8,Rxe8+,Qxe8,Qf4,Kg8,a3,b5,Qc7,b4,axb4,cxb4,Qc4+,Kh8,Qxb4,Qe1+,Kh2,Qxf2,Qf8+,Kh7,Qf7', 'Ng4+,hxg4,Qxf7', 'https://lichess.org/training/9m5sh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9M8L2', 'Rapid', 'redor', 1768, 'erpichi', 1973, 'e4,c5,Nf3,d6,b3,Nc6,Bb2,Nf6,d3,g6,Nbd2,Bg7,Rb1,O-O,Nc4,b5,Ne3,Qc7,Nd2,e5,Be2,Be6,O-O,d5,exd5,Nxd5,Ne4,Nd4,Qd2,Nxe3,fxe3,Nxe2+,Qxe2,Qe7,Rf2,f5,Nd2,Rf7,Rbf1,Raf8,e4,f4,Nf3,Bg4,Qd2,Qd6,h3,Be6,Ng5,Rc7,Nxe6,Qxe6,Qa5,Rb7,Qc3,Rc8,Qe1,c4,Qa1,cxb3,axb3,Rbc7,Qb1,a5,c4,bxc4,bxc4,Rb7,Qa1,Rcb8,Bc3,Rb3,Qxa5,Qb6,Qd5+,Kh8,Bxe5,Rd8,Bxg7+,Kxg7,Qe5+,Qf6,Qxf6+,Kxf6,Rxf4+,Ke5,R4f3,Rdxd3,Rxd3,Rxd3,Rc1,Kxe4,c5,Rd8,c6,Rc8,c7,Kd5,Kf2,Ke6,Kg3,Kd7,Kg4,h6,Kf4,Rf8+,Ke3,Re8+,Kd3,Rc8,Kd4,Rxc7', 'Rxc7+,Kxc7,Ke5', 'https://lichess.org/training/9M8L2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9m9x0', 'Classical', 'malaquiasrm69', 1847, 'michal23', 1915, 'e4,e5,Nf3,d6,d4,Nf6,dxe5,Nxe4,Bd3,Nc5,O-O,Be7,Nc3,O-O,exd6,Bxd6,Ne4,Nxe4,Bxe4,Nc6,Bxc6,bxc6,Be3,Re8,c3,Bb7,Re1,Rc8,Qb3,Ba6,Nd4,Qf6,Nxc6,Bxh2+,Kxh2,Qxc6,Bxa7,Bb7,Rxe8+,Rxe8,f3,Re2,Rf1,Ba6,Rf2,Qh6+,Kg3,Qg5+,Kh2,Qh4+,Kg1', 'Re1+,Rf1,Rxf1#', 'https://lichess.org/training/9m9x0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9mbd1', 'Rapid', 'TKSATXArnavSrinivasa', 1999, 'TKSChessDogMate', 2211, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,a6,Bc4,Nc6,O-O,Bg4,d4,e6,Be3,Bd6,h3,Bh5,Qd2,h6,Rae1,Nf6,d5,Ne5,Nxe5,Bxe5,dxe6,O-O,Qxd8,Raxd8,Rd1,Rxd1,Rxd1,fxe6,Bxe6+,Kh8,Bd4,Bd6,Re1,b5,Bxf6,Rxf6,Bg4,Bg6,Ne4,Rf8,Nxd6,cxd6,Re6,Bxc2,b4,d5,Rxa6,d4,Rd6,d3,Kf1,Re8,Bf5', 'd2,Rxd2,Bxf5', 'https://lichess.org/training/9mbd1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Mfgg', 'Rapid', 'pll2', 1664, 'lAgrosseTour', 1603, 'c4,e5,a3,d5,cxd5,Qxd5,Nc3,Qc5,e3,Nc6,b4,Qd6,Nf3,Bg4,Be2,O-O-O,h3,Qh6,O-O,Bf5,e4,Be6,d3,Qg6,Nh4,Qf6,Nf3,Nd4,Bg5', 'Nxf3+,Bxf3,Qxg5', 'https://lichess.org/training/9Mfgg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9MGbx', 'Classical', 'howramh', 1760, 'boyara', 1724, 'e4,a6,Nf3,h6,d4,e6,Nc3,d5,Qe2,c5,exd5,cxd4,Na4,Qa5+,Bd2,Qxa4,b3,Qd7,Qe4,Nf6,Qxd4,Nxd5,c4,Nc6,Qd3,Nf6,Qe3,Bd6,c5,Bc7,a4,Nd5,Qe4,Ncb4,Bxb4,f5,Qd4,Qd8,Qxg7,Nxb4,Qxh8+,Kf7,Qh7+,Ke8,Qg6+,Ke7,Qg7+,Ke8,Qg6+,Ke7,Qg7+,Ke8,Nd4,Ba5,Qg8+,Ke7,Qg7+,Ke8,O-O-O,Na2+,Kb2,Nc3,Rd3,Nd5,Rg3,Nf6,Qh8+,Kd7,Qg7+,Ke8,Qg6+,Kd7,Qf7+,Qe7,Qxe7+,Kxe7,Rg7+,Kf8,Rg3,Ne4,Re3,Bc3+,Kc2,Bxd4,Rd3,Bxf2,Rd8+,Ke7,Rh8,Bxc5,h4,b6,Rxh6,Bb7,Rh7+,Kf6,Rxb7,Rc8,Ra7,b5,Rxa6,bxa4,Rxa4,Nf2,Rh2', 'Bd6+,Rc4,Rxc4+,bxc4,Bxh2', 'https://lichess.org/training/9MGbx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9mh6k', 'Blitz', 'erkinpolat', 1716, 'Blaunase', 1691, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,Nbd7,Be2,O-O,O-O,e5,d5,Nc5,Nd2,a5,f4,exf4,Rxf4,Re8,Qf1,Ncd7,Rf2,Nc5,b3,Nfxe4,Ndxe4,Nxe4,Nxe4,Bxa1,Rxf7,Rxe4,Bh6,Rxe2', 'Rf8+,Qxf8,Qxf8#', 'https://lichess.org/training/9mh6k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9mHOE', 'Classical', 'Trrak55', 2161, 'nightwoolf', 2099, 'Nf3,f5,e4,fxe4,Ng5,Nf6,d3,e5,Nc3,d5,dxe4,Bb4,a3,Bxc3+,bxc3,h6,Nf3,Nxe4,Nxe5,O-O,Be3,c5,Bd3,Nxc3,Qh5,Qd6,O-O,Nc6,Ng6,Rf6,Bf4,Rxf4,Nxf4,Qxf4', 'Qe8+,Qf8,Bh7+,Kxh7,Qxf8', 'https://lichess.org/training/9mHOE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9mhP4', 'Blitz', 'DSDAPINO', 1913, 'Raythenecromancer', 1858, 'd3,d5,e4,dxe4,dxe4,Qxd1+,Kxd1,e5,Be3,Nf6,f3,Be6,c3,Nbd7,Kc2,O-O-O,Nd2,a6,g3,Bc5,Bxc5,Nxc5,Bh3,g5,Bxe6+,Nxe6,h3,h5,Ne2,Rd7,Nc4,Rhd8,Rad1,g4,Rxd7,Nxd7,hxg4,hxg4,fxg4,Nec5,Nd2,Nf6,b4,Ncxe4,Nxe4,Nxe4,Rd1,Rxd1,Kxd1,Nf2+,Kd2,Nxg4,Kd3,Kd7,Ke4,Ke6,Nc1,f5+,Kf3,b5,Nd3,Nf6,Nc5+,Kd5,Nxa6,Kc4,Nxc7,Kxc3,Nxb5+,Kxb4,Nd6,Ka3,Nxf5,Kxa2,Nd6,Kb3,Ne4,Nd5,Kg4,Kc4,Kf5,Kd4,Nf6', 'Nxf6,Kxf6,e4,g4,e3,g5,e2,g6,e1=Q', 'https://lichess.org/training/9mhP4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9MMoZ', 'Rapid', 'hooloo', 1977, 'hobbit900', 1957, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,f3,Bg7,Be3,Nc6,Qd2,O-O,O-O-O,a6,g4,Nxd4,Bxd4,Nd7,h4,Bxd4,Qxd4,Ne5,Be2,b5,h5,Be6,a3,Rb8,hxg6,fxg6,Nd5,Nxf3,Bxf3,Rxf3,Rxh7,Kxh7,Rh1+,Kg8,Qh8+,Kf7', 'Rh7#', 'https://lichess.org/training/9MMoZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9mOT1', 'Rapid', 'Pat964', 2079, 'Bogi62', 2148, 'c4,c5,Nc3,Nf6,Nf3,Nc6,d4,cxd4,Nxd4,g6,e4,d6,Be2,Bg7,Be3,O-O,O-O,Bd7,Rc1,Rc8,f3,a6,Qd2,Re8,Rfd1,Qa5,a3,Ne5,Nd5,Qxd2,Nxf6+,Bxf6,Rxd2,b5,Rdc2,Nxc4,Bxc4,Rxc4,Rxc4,bxc4,Rxc4,Rc8,Rxc8+,Bxc8,b4,Bb7,Kf2,d5,Nb3,dxe4,Nc5,Bc8,Nxe4,Bb2,a4,Kf8,Ke2,e5,Kd3,Ke7,Bc5+,Ke6,Nd6,Bd7,b5,axb5,axb5,Kd5,Bb4,f5,b6,e4+,fxe4+,fxe4+,Nxe4', 'Bf5,Ke2,Bxe4', 'https://lichess.org/training/9mOT1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9MqmE', 'Classical', 'timoshuck', 1755, 'rosco423', 1776, 'e4,c5,f4,Nc6,Nf3,Nf6,Nc3,d5,e5,Ne4,Bb5,Bg4,Bxc6+,bxc6,d4,cxd4,Qxd4,Bxf3,gxf3,Nxc3,Qxc3,Qd7,Be3,e6,Bc5,Qd8,Bxf8,Qh4+,Ke2,Rxf8,Qxc6+,Ke7,Qd6+,Ke8,Qa6,Qxf4,Qc6+,Ke7,Qd6+,Ke8,b3,f5,c4,d4,Qxe6+,Kd8,Qd6+,Ke8,Rag1,Qe3+,Kd1,Qxf3+,Kc1,Rf7,Qd5,Qc3+,Kb1,Rd8,Qc6+,Kf8,e6,Re7,Qc5,d3,Rc1,Qf6,Rhf1,d2,Rcd1,Qxe6,Rxf5+,Kg8,Rd5,Rc8,Qd4,Qg6+,Qd3,Re1,Kc2,Qg1,Rxd2,Rc1+,Kb2,Rb1+,Ka3,Rf8,Rb5,h6,Qd5+,Kh8,Qb7', 'Qc1+,Ka4,Qxd2', 'https://lichess.org/training/9MqmE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9MQMV', 'Bullet', 'max_power', 1738, 'eble1', 1695, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,gxf6,Bc4,Bf5,O-O,e6,d4,Bd6,c3,Nd7,Bd3,Bg6,Bxg6,hxg6,c4,Qc7,g3,O-O-O,c5,Be7,b4,e5,d5,cxd5,a4,Kb8,Ba3,e4,c6,Qxc6,Nd4,Qc7,Rc1,Qe5,Re1,Nb6,Nb5,Nc4,Qb3,Nxa3,Qxa3,Qh5,h4,Qf3,Rc3,Qg4,Nd4,Rxh4,Qc1,Rh3,Nb5,Bxb4,Rc7,Bxe1', 'Rxb7+,Kxb7,Qc7+,Ka6,Qxa7#', 'https://lichess.org/training/9MQMV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9mwQk', 'Rapid', 'deerao75', 1786, 'malermeister', 1743, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d6,Be2,Nxd4,Qxd4,Nf6,Nc3,a6,Be3,Be7,O-O-O,O-O,f4,c6,h3,Re8,g4,c5,Qd2,b5,g5,Nd7,f5,g6,Nd5,Bf8,Bxc5,dxc5,Nf6+,Nxf6,Qxd8,Rxd8,Rxd8,Nxe4,Bf3,gxf5,h4,Kg7,h5,Bd6,Bxe4', 'Bf4+,Kb1,fxe4', 'https://lichess.org/training/9mwQk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9myms', 'Rapid', 'engin2050', 2218, 'momo_klaus', 2174, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,c3,Nge7,Bc4,O-O,O-O,Bb6,Qd2,Ne5,Be2,d6,f3,N7c6,Kh1,Qg6,Na3,Nxd4,cxd4,Nc6,Nc4,Bd7,Nxb6,axb6,a3,Kh8,Rac1,Rac8,Bd3,f5,Bb1,fxe4,fxe4,Qg4,h3,Qh5,Kh2,Rf7,Bd3,Rcf8,Rxf7,Rxf7,Be2,Qg6,Bd3,Qh5,Bc4,Rf8,Be2,Qg6,Bf3,h6,d5,Ne5,Rf1,Bb5', 'Bh5,Bxf1,Bxg6', 'https://lichess.org/training/9myms');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9mYyJ', 'Classical', 'AdolfRA', 1686, 'eggsdeee', 1722, 'Nf3,d5,g3,c5,d3,Nc6,c3,e6,b3,Qf6,Bb2,Bd6,Qd2,Nge7,c4,d4,Bg2,O-O,e3,dxe3,fxe3,Ne5,Rf1,Nxf3+,Rxf3,Qh6,h3,b6,Nc3,Bb7,e4,Qxd2+,Kxd2,f5,Raf1,fxe4,Nxe4,Bc7,Rxf8+,Rxf8,Rxf8+,Kxf8,g4,Bf4+,Ke2,Ng6,Kf2,Ne5,Bxe5,Bxe5,Ng5,Bd4+,Kg3,Be5+,Kf2,Bd4+,Kf1,Bxg2+,Kxg2,Ke7,Nxh7,Be3,h4,e5,Kf3,Bd2,Ke4,Bf4,Kf5,a6,Kg6,b5,cxb5,axb5,Kxg7,c4,bxc4,bxc4,dxc4,e4,Nf6', 'Be5,g5,e3', 'https://lichess.org/training/9mYyJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9mzq3', 'Rapid', 'SashaKos', 1676, 'Xoluxilla', 1667, 'd4,d5,f4,Nc6,Nf3,e6,e3,g6,Bd3,Bg7,c3,Nge7,O-O,O-O,b4,Nf5,Qe2,a6,Bb2,b5,a4,Bd7,axb5,axb5,Nbd2,Na7,Ne5,Bxe5,fxe5,c6,Ra5,Kg7,Rfa1,Qc7,e4,Ne7,Nb3,f5,exf5,Nxf5,Nc5,Rf7,g3,Qd8,Rxa7,Rxa7,Rxa7,Bc8,Rxf7+,Kxf7,g4,Nh6,Qf3+,Kg7,h3,Qg5,Kg2,Qd2+,Qe2,Qg5,Kg3,Nf5+,Kh2,Qf4+,Kg1,Qg3+,Kh1,Qxh3+,Kg1,Ne3,Bc1,Qg3+,Kh1,Nxg4,Bd2', 'Nf2+,Qxf2,Qxf2', 'https://lichess.org/training/9mzq3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9N6EM', 'Rapid', 'reallysticky', 1609, 'arodriguezg176', 1690, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Nf6,Re1,a6,Ba4,b5,Bb3,h6,d4,exd4,Nxd4,Nxd4,Qxd4,Be7,Bd5,Rb8,Bf4,Nxd5,Qxd5,O-O,Nd2,Be6,Qc6,Bh4,Qxa6,Be7,b3,g5,Bg3,f5,exf5,Bxf5,Qc6,Bd7,Qd5+,Rf7,Ne4,Bc8,f3,Bf5,Bf2,Qd7,Bd4,Rf8,Nf6+', 'Bxf6,Bxf6,c6,Qd2,Rxf6', 'https://lichess.org/training/9N6EM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9N9cG', 'Rapid', 'ElyseeReclus', 1752, 'Tomasortiz', 1808, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,Nc6,Nxc6,bxc6,Be3,e6,Qf3,e5,O-O-O,Bg4,Qg3,Bxd1,Rxd1,Qd7,h4,Qg4,Qh2,h5,Be2,Qc8,f4,Qc7,fxe5,dxe5,Bd4,Bd6,Be3,Bb4,Na4,Rd8,Rxd8+,Qxd8,Qxe5+,Qe7', 'Qb8+,Qd8,Qxb4', 'https://lichess.org/training/9N9cG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Nb8Q', 'Rapid', 'maharjanr270', 1869, 'realdanielbyrne', 1846, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Bd3,Nc6,Nxc6,dxc6,O-O,Be7,Nc3,O-O,Be3,b5,a3,Bb7,f4,a6,e5,Nd5,Nxd5,cxd5,Be2,Rc8,Bf3,Qc7,c3,Bc5,Bxc5,Qxc5+,Kh1,Rfd8,Rc1,Qe3,Re1,Qxf4,Rf1,Qxe5,Re1,Qb8,Qd4,Rc4,Qf2,Rdc8,Bh5,g6,Rf1,Qc7,Bf3,e5,Rcd1,e4,Be2,Rc5,Rc1,Qe5', 'Qxf7+,Kh8,Qxb7', 'https://lichess.org/training/9Nb8Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9NBsa', 'Rapid', 'cap601', 1784, 'Aron-Nimcovic', 1826, 'c4,c6,Nc3,e6,g3,Bb4,Bg2,d5,cxd5,cxd5,d4,Nf6,Bg5,O-O,e3,a6,Ne2,Nbd7,O-O,Bd6,e4,dxe4,Nxe4,h6,Nxf6+,Nxf6,Bf4,Qe7,Bxd6,Qxd6,Rc1,Bd7,Bxb7,Rab8,Bg2,Rxb2,Rc2,Rfb8,Qd3,a5,Qc3,Nd5,Bxd5,Qxd5', 'Rxb2,Rxb2,Qxb2', 'https://lichess.org/training/9NBsa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9nCAf', 'Rapid', 'zlhory', 1926, 'grasshopper1', 1983, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,d5,Bd3,Nc6,O-O,Bg4,Nbd2,Nxd2,Bxd2,Nxd4,Qe1+,Ne6,Nd4,Be7,h3,Nxd4,hxg4,O-O,c3,Ne6,Bf5,Qd6,Bxe6,Qxe6,Qxe6,fxe6,f4,Bc5+,Kh2,Rae8,b4,Bd6,g3,c5,a3,b6,Rae1,c4,a4,a5,b5,Bc5,Be3,Bxe3,Rxe3,Kf7,Rfe1,g6,f5,gxf5,gxf5,Kf6,fxe6,Re7,Rf1+,Kg7,Rxf8,Kxf8,Re5,Kg7,g4,h6,Kg3,Kf6,Rxd5,Rxe6,Rh5,Kg6,Kf4,Rf6+,Ke4,Rf2,Kd4,Rf4+,Kd5,Rxg4,Re5,Rg5,Rxg5+,Kxg5', 'Kc6,h5,Kxb6', 'https://lichess.org/training/9nCAf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9ncjy', 'Blitz', 'IM Yarebore', 2628, 'IM gofundme', 2646, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bb3,Nbd7,Bg5,Nc5,f4,Be7,Qf3,h6,Bxf6,Bxf6,O-O-O,Qc7,g4,b5,Bd5,exd5,Nxd5,Qb7,e5,dxe5,Nc6,e4', 'Nxf6+,gxf6,Rd8#', 'https://lichess.org/training/9ncjy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9ncQU', 'Blitz', 'Rohith2023', 1609, 'GAUTAD_PE', 2113, 'e4,g5,Nf3,g4,Ne5,h5,h3,Bg7,d4,d6,Nc4,Nf6,hxg4,hxg4,Rxh8+,Bxh8,Nc3,Nc6,d5,Ne5,Nxe5,dxe5,Be3,Bd7,Qd3,a6,O-O-O,Bg7,Qd2,Ng8,Be2,Kf8,Bc5,b6,Ba3,b5,d6,cxd6,Bxd6,exd6,Qxd6+,Ke8,Nd5,Rc8,Bxg4,Qg5+,Kb1,Qxg4,f3,Qe6,Nc7+,Rxc7,Qxc7,Ne7,f4,exf4,Rd6,Qe5', 'Qxd7+,Kf8,Qd8#', 'https://lichess.org/training/9ncQU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9ngYT', 'Rapid', 'svmalnev', 1714, 'MoBrando', 1680, 'e4,c5,Nf3,d5,d3,Bg4,Be2,dxe4,dxe4,Bxf3,Bxf3,Qc7,O-O,Nc6,c4,Rd8,Qc2,Nd4,Qa4+,b5,cxb5,Nxf3+,gxf3,g6,b6+,Qd7,Qxd7+,Rxd7,bxa7,Rxa7,b3', 'Bg7,Nc3,Bxc3', 'https://lichess.org/training/9ngYT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9nKf8', 'Blitz', 'reffi', 1595, 'fabione', 1569, 'd4,d6,Bf4,Nf6,Nf3,g6,e3,Bg7,c3,c6,Nbd2,b5,Bd3,a5,Qc2,Nd5,h4,Nxf4,exf4,Nd7,h5,Nf6,hxg6,fxg6,Ng5,Bd7,Bxg6+,hxg6,Rxh8+,Bxh8', 'Qxg6+,Kf8,Qf7#', 'https://lichess.org/training/9nKf8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9nkqw', 'Classical', 'Rocket_89P13', 1751, 'mustafa487a', 1725, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,a6,Bxc6,dxc6,Nxe5,Be7,O-O,O-O,Nd2,Be6,Re1,Bc5,Nf1,Qd4,Be3,Qxe5,d4,Qxe4,Ng3,Qd5,dxc5,Rad8,a3,Ng4,Qxd5,Rxd5,b4,Rfd8,Bf4,R8d7,h3,Nh6,Ne4,Rf5,Bg3,Kh8,Rad1,Re7,Rd8+,Ng8,Bh4,f6,Bg3,h6,Bh2,Rd5,Rxd5', 'Bxd5,f3,f5', 'https://lichess.org/training/9nkqw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9nMPa', 'Rapid', 'bhirghu', 1814, 'Abbott', 1888, 'e4,e5,f4,exf4,Bc4,Be7,d4,Bh4+,Kf1,d5,Bxd5,c6,Bb3,g5,Qh5,Qf6,e5,Qg6,Qxg6,hxg6,Ne2,Bg4,Nbc3,Nd7,Ne4,Bxe2+,Kxe2,Ne7,g3,Bxg3,Nd6+,Kf8,Nxf7,Rxh2+,Rxh2,Bxh2,Nxg5,Nf5,c3,Re8,Kf3,Nb6,Bxf4,Bxf4,Kxf4,Nd5+,Kg4,Nde3+,Kf3,Ke7,Rh1,Nd5,Rh7+,Kd8,Nf7+,Kc8,Ke4', 'Nf6+,Kf4,Nxh7', 'https://lichess.org/training/9nMPa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9NrZt', 'Rapid', 'CarlecheECU42', 1995, 'padru', 1802, 'e4,e5,f4,exf4,Nf3,d6,Bc4,g5,h4,Be7,O-O,g4,Nh2,f3,Nxf3,gxf3,Qxf3,Bf6,Nc3,Bd4+,Rf2,Bxf2+,Qxf2,Qf6,Qe2,Qd4+,Kh1,Qf6,g3,Nc6,Nd5,Qd8,d3,h6,Qf2,Ne5,Bb3,c6,Nc3,Qf6,Qxf6,Nxf6,Bf4,Be6,Rf1,Bxb3,axb3,Nfg4,d4,Ng6,Bxd6,Kd7,Ba3,Rhf8,Bxf8,Rxf8,e5,Ne3,Rf2,Ke6,Ne4,Kd5,Nf6+,Kxd4,Nd7,Re8,Rxf7,Nxe5', 'Rf4+,Kd5,Nf6+', 'https://lichess.org/training/9NrZt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9NS6j', 'Rapid', 'kwall2004', 1635, 'rajaav', 1660, 'd4,b6,e4,Bb7,d5,e6,Nc3,exd5,exd5,Bc5,Nf3,Nf6,Bg5,O-O,Bc4,Qe8+,Be3,Bxe3,fxe3,Qxe3+,Ne2,Ne4,Qd3,Qf2+,Kd1,Qxg2,Qxe4,Qxh1+,Kd2,Qxa1,Ng5,g6,Nf4,Qg1,Qe7,Qd4+,Nd3,Qxc4,Ne5,Qxd5+,Kc1,Qe6,Nxe6,dxe6,Qxc7,Bd5,Ng4,Na6,Qe5,f5', 'Nh6#', 'https://lichess.org/training/9NS6j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9ntaR', 'Blitz', 'Gustavozxc', 1807, 'adamviva', 1839, 'f4,d6,e3,e5,fxe5,dxe5,b3,e4,Bb2,Bd6,Ne2,Nf6,Nbc3,O-O,Ng3,Bxg3+,hxg3,Qd6,Qe2,Qxg3+,Qf2,Qxf2+,Kxf2,Ng4+,Kg1,f5,Nd5,Na6,Bxa6,bxa6,Nxc7,Rb8,g3,a5,a4,a6,Nd5,Be6,Ne7+,Kh8,Nc6,Rbc8,Nd4,Bd7,Bc3,Rc5,b4,Rcc8,bxa5,Nxe3,Bb4,Rf7,dxe3,g5,Kg2,f4,gxf4,gxf4,exf4,Rxf4,Rhf1', 'Rg8+,Kh1,Rh4#', 'https://lichess.org/training/9ntaR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9nthD', 'Rapid', 'Anna_Petrova', 2297, 'WilKellermanChess', 2326, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nxf7,Kxf7,Nc3,Be6,d4,c5,d5,Bg4,f3,Bh5,g4,Bg6,h4,h5,g5,Ne8,f4,Qe7,Qf3,Bf5,Bh3,Bxh3,Rxh3,Nd7,b3,g6,Bb2,Bg7,O-O-O,Rf8,f5,Be5,Rf1,Kg8,Ne2,Bxb2+,Kxb2,Qe5+,c3,Ng7,Nf4,gxf5,Ng6,Qxe4,Qxe4,fxe4,Nxf8,Rxf8,Rxf8+,Kxf8,Re3,Ne5,Rxe4,Nf5,b4,c4,b5,Kg7,a4,Kg6,Ka3,Ne7,Rf4,Nxd5,Rf8,a6,Rd8,axb5', 'Rxd6+,Kf5,Rxd5', 'https://lichess.org/training/9nthD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Nw00', 'Blitz', 'Azmonden', 1522, 'KOUKOUKOU', 1574, 'c4,d6,Nc3,e5,g3,f6,Bg2,Nd7,Nf3,Ne7,O-O,Nc5,d3,f5,a3,a6,b4,Ne6,Bb2,Rb8,Nd2,Nc6,Nd5,Ncd4,Nf3,Nc6,Qc2,Ncd4,Nxd4,exd4,Rfd1,f4,Nxf4,Nxf4,gxf4,Qh4,Bxd4,Bh3,Bxh3,Qxh3,f3,g5,fxg5,Rg8,Rf1,Rg7,Bxg7,Bxg7,Rac1,Bd4+,Rf2,Bxf2+,Kxf2,Qxh2+,Ke3,Qe5+,Kd2,Qf4+,Kc3,Qe5+,Kb3,Kd7,Rg1,Rg8,Qd2,h6,f4,Qf5,e4,Qh7,Qh2,Qh8,Qxh6,Qd4,Qh7+,Kc6,Qxg8,Qxd3+,Ka4,b5+,cxb5+', 'axb5+,Ka5,Qxa3#', 'https://lichess.org/training/9Nw00');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9nwQx', 'Rapid', 'Isaac2016', 1709, 'PawnToTsar', 1607, 'e4,e5,Bc4,Nf6,d3,Bc5,Be3,Bxe3,fxe3,d6,h3,Bd7,Nf3,Qc8,Ng5,O-O,O-O,h6,Rxf6,hxg5,Rf2,Bxh3,Qh5,Bg4', 'Bxf7+,Rxf7,Qxf7+', 'https://lichess.org/training/9nwQx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9nyYl', 'Blitz', 'Azazel_x', 2314, 'weakestavenger', 2353, 'd4,d5,Nf3,Nf6,e3,e6,Bd3,c5,b3,Bd6,Bb2,O-O,O-O,Nc6,a3,Qe7,Ne5,Nd7,f4,f6,Bxh7+,Kxh7,Qh5+,Kg8,Ng6,Qe8,Qh8+,Kf7,Qh5,Kg8,Rf3,f5,dxc5,Bxc5', 'Qh8+,Kf7,Qxg7#', 'https://lichess.org/training/9nyYl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9NZdG', 'Rapid', 'mistrzczewa', 1909, 'IRFANSAMIMI', 1925, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,h3,e6,Bg5,O-O,e5,dxe5,dxe5,Qxd1+,Rxd1,Nfd7,Nb5,Nxe5,Nxc7,h6,Bc1,Nxf3+,gxf3,b5,Nxa8,Bb7,Nc7,Bxf3,Nxb5,Bxh1,Nxa7,Nc6,Nxc6,Bxc6,b3,Ra8,a4,Bf3,Rd3,Be4,Re3,Bxc2,Bc4,Bf5,Ke2,Bd4,Rg3,h5,Bf4,h4,Rg2,Bxh3,Rh2,e5,Rxh3,exf4,Rxh4,g5,Rg4,Bf6,Rg1,Rd8,Rd1', 'f3+,Kxf3,Rxd1', 'https://lichess.org/training/9NZdG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9nznS', 'Rapid', 'straszliwiec', 1916, 'themermel', 1892, 'b4,e5,Bb2,Nc6,b5,Nd4,a4,d6,Bxd4,exd4,g3,Qf6,Na3,Bf5,Bg2,O-O-O,a5,Ne7,Qb1,Re8,b6,axb6,axb6,c6,Nc4,d5,Ra8+,Kd7,Rxe8,Kxe8,Na5,Bc8,Qa2,Nf5,Nb3,Bb4,Qa8,Kd7,Qb8,Bd6,Qa7,Re8,Nf3,Ke7,Qa4,d3,cxd3,Kf8,e3,Bd7,Qa7,Rb8,O-O,Qd8,Rb1,Qc8,Qa2,Be6,d4,Ra8,Qc2,Ra6,Nc5,Bxc5,dxc5,Nh6,d4', 'Bf5,Qb3,Bxb1', 'https://lichess.org/training/9nznS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9O3XP', 'Blitz', 'prashanth_V', 1781, 'Sergejgorod', 1790, 'd4,d5,Bf4,e6,Nf3,a6,c3,c5,e3,Nc6,Ne5,cxd4,exd4,Bd6,Bd3,Bxe5,dxe5,Nge7,O-O,Ng6,Bxg6,hxg6,Nd2,g5,Bg3,f6,Re1,f5,f4,gxf4,Bxf4,Qb6+,Kh1,Qxb2,c4,Qd4,cxd5,exd5,Be3,Qxe5,Bc5,Rxh2+,Kg1,Rh6,Rxe5+,Nxe5,Qe2,Re6,Nf3,Nxf3+,Qxf3,g6,Qxd5,Bd7,Qxb7,Rd8,Rd1,Bc6,Qc7,Rxd1+,Kh2,Rd7', 'Qc8+,Rd8,Qxe6#', 'https://lichess.org/training/9O3XP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9o67c', 'Rapid', 'Brucelee1973', 1928, 'smrq2020', 1987, 'd4,d5,Nf3,g6,b3,Bg7,Bb2,Nf6,Nc3,c6,Qd3,Bf5,Qd1,Ne4,Nh4,Nxc3,Bxc3,e6,Nxf5,exf5,Qd3,O-O,O-O-O,Nd7,h4,h5,f3,Nf6,g4,fxg4,fxg4,Nxg4,Qg3,Qe7,Rd3,Rfe8,Bd2,Bh6,Bxh6,Nxh6,Rg1,Ng4,Bh3,Qxe2,Bxg4,Qxg4,Qf2,Qe2,Qf6,Qe6,Qg5,Re7,Qxh5,Rae8,Qg5,Qd6,Kb2,Kg7,h5,Qf6', 'h6+,Kf8,Qxf6', 'https://lichess.org/training/9o67c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9OBd7', 'Bullet', 'saniboy', 1933, 'khanivor', 1908, 'e4,e6,g3,d5,Bg2,c6,d4,Nf6,Nd2,dxe4,Nxe4,Nbd7,c3,Nxe4,Bxe4,Nf6,Bg2,Bd7,Ne2,Rb8,O-O,b5,a3,a5,Nf4,a4,Nd3,Bd6,f4,O-O,Ne5,Bxe5,fxe5,Nd5,h3,f6,exf6,Rxf6,Bd2,Qc7,Kh2,Rbf8,Qe2,Rxf1,Rxf1,Rxf1,Qxf1,Qd6,Qf3,e5,dxe5,Qxe5,h4,Be6,Bf1,Nf6,Bf4,Qf5,Qxc6,Qc2+,Bg2,Ng4+,Kg1', 'Qf2+,Kh1,Qe1+,Bf1,Qxf1#', 'https://lichess.org/training/9OBd7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9OepV', 'Rapid', 'g1lzera', 2040, 'nikolakur1', 2006, 'e4,c5,Nf3,Nc6,Bb5,g6,O-O,Bg7,c3,Nf6,e5,Ng4,d4,cxd4,cxd4,O-O,h3,Nh6,Be3,Nf5,Bf4,Qb6,Bxc6,Qxb2,Bxb7,Bxb7,Nbd2,Nxd4,Rb1,Bxf3,Nxf3,Nxf3+,Qxf3,Qxa2,Rb7,Qe6,Rd1,a5,Rdxd7,a4', 'Rxe7,a3,Rxe6', 'https://lichess.org/training/9OepV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9OfaE', 'Classical', 'dimitris22', 1866, 'EinarGregersen', 1974, 'd4,Nf6,c4,g6,Nc3,Bg7,Bf4,d6,e3,O-O,Nf3,Re8,Be2,Nbd7,d5,Nc5,O-O,a5,a4,e5,Bg3,Bh6,Nd2,Nfd7,f4,f5,Nf3,Bg7,Ng5,h6,Ne6,Nxe6,dxe6,Nc5,Nd5,Bxe6,Bh4,Qd7,Nf6+,Bxf6,Bxf6,exf4,Rxf4,Qf7,Bd4,Ne4,Bd3,Bxc4,Bxc4,Qxc4,Rc1,Qf7,g4,c6,gxf5,gxf5,Rc2,Kh7,Qf3,Rg8+,Kh1,Rg5,Rg2,Rag8,Rxg5,Nxg5,Rxf5,Qe6,Qf4,Nh3', 'Rf7+,Kg6,Rf6+,Qxf6,Qxf6+', 'https://lichess.org/training/9OfaE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9OfHz', 'Classical', 'Thaxiss', 1722, 'Auruss', 1707, 'd4,Nf6,Bf4,e6,Nf3,Be7,e3,O-O,Bd3,d5,O-O,c5,c4,Nc6,cxd5,Nxd5,Bg3,Qb6,b3,cxd4,exd4,Bd7,Bc2,a5,Qd3,Nf6,Nbd2,Nb4,Nc4,Qa6,Qe2,Nxc2,Qxc2,Rfc8,Rac1,b5,Nfd2,bxc4,bxc4,Bd6,Qd3,Bxg3,Qxg3,Rab8,Nb3,a4,Nc5,Qa7,Rfd1,Bc6,f3,Rb2,Qd6,Nd7,Nxd7,Bxd7,c5,Bc6,Re1,Qa5,Red1,a3,Ra1,Qc3,Qf4,Bd5,Rac1,Rc2,Rxc2,Qxc2,Rd2,Qb1+,Kf2,Bxa2,Qd6,Bd5,Qd7,Ra8,c6,a2,c7,Qb7', 'Qd8+,Rxd8,cxd8=Q#', 'https://lichess.org/training/9OfHz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9ofMz', 'Rapid', 'abdullah_ali', 2080, 'jingan-2000', 2055, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Bc4,Bg4,Nf3,Nc6,O-O,Qh5,Be2,e6,h3,Bxh3,gxh3,Qxh3,Bf4,O-O-O,Qd3,h5,Ne5,Qxd3,Bxd3,Nxe5,Bxe5,Ng4,f3,Nxe5,dxe5,Bc5+,Kg2,g5,Ne4,Bd4,Nxg5,Bxb2,Nxf7,Rhg8+,Kh1,Rdf8,Rab1,Bd4,Nh6,Rh8,Nf5,exf5,f4,Rhg8,Rbe1,Rg4,Kh2,Rh4+,Kg3,Rg4+,Kh3,Kd8,e6,Ke7,Re2,Rfg8,Rb1,Rg3+,Kh2,R3g4,Bxf5,Rh4+,Bh3,Rxf4,Rxb7,Bb6,Rd2,Rf3', 'Rd7+,Kf6,Rf7+,Ke5,Rxf3', 'https://lichess.org/training/9ofMz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9OmiN', 'Blitz', 'vanab', 1749, 'pjacobi', 1756, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,f4,g6,Nf3,Bg7,Nc3,Be6,Bd3,O-O,d5,Bg4,h3,Bxf3,gxf3,c6,Be3,dxe5,fxe5,Bxe5,f4,Bg7,Qf3,cxd5,Bxb6,Qxb6,Nxd5,Qe6+,Kf1,Na6,Re1,Qd6,Nxe7+,Kh8,Nd5,Rae8,Kg2,Nc5,b4,Ne6,f5,Nc7,f6,Bh6,Ne7,Bg5,Rhf1,Qd4,Re4,Qb2+,Kg3,Qxb4,h4,Qd6+,Kh3,Bh6,h5,Ne6,hxg6,Ng5+,Kg4,Nxf3,Rxf3,hxg6,Rff4,Qxd3,Re1,Bxf4', 'Rh1+,Qh3+,Rxh3+,Bh6,Rxh6#', 'https://lichess.org/training/9OmiN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Oq8z', 'Rapid', 'elkadice', 1783, 'massarakcsh', 1761, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Nxe4,Bxf7+,Ke7,Nxe4,Kxf7,Qf3+,Ke8,Nbc3,Nd4', 'Qh5+,g6,Qxe5+', 'https://lichess.org/training/9Oq8z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9oQC0', 'Rapid', 'SavvasKonstantinides', 1903, 'Renos2010', 1780, 'e4,e6,d4,d5,e5,c5,c3,cxd4,cxd4,Bb4+,Nc3,Bxc3+,bxc3,Qc7,Bd2,Ne7,Bd3,O-O,Qh5,Ng6,Nf3,b6,Ng5,h6,Bxg6', 'fxg6,Qxg6,hxg5', 'https://lichess.org/training/9oQC0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9OrjA', 'Rapid', 'flemmagnus', 2168, 'Pierreuh', 2195, 'e4,e6,Nf3,c5,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Nc3,d5,Bd3,Nf6,O-O,Be7,Re1,O-O,Bf4,Qb6,e5,Nd7,Re3,Qb4,Rf3,g6,Rb1,c5,a3,Qa5,h4,Ba6,h5,Bxd3,Qxd3,g5,Bd2,Nxe5,Qe2,Nxf3+,Qxf3,Qc7,h6,Qe5,Re1,Qf5', 'Qxf5,exf5,Rxe7', 'https://lichess.org/training/9OrjA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9OrqQ', 'Blitz', 'FM Mazoetan', 2358, 'aryamannkid', 2367, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Nf3,c5,Rb1,O-O,Be2,b6,O-O,Bb7,Bd3,Nc6,d5,Ne5,Nxe5,Bxe5,c4,e6,Bb2,Bxb2,Rxb2,f5,Rd2,fxe4,Bxe4,exd5,Bxd5+,Bxd5,Rxd5,Qf6,f3,Rad8,Re1,Rxd5,cxd5,Rd8,Re4,Qd6,h4,Kf7,Qd2,Qxd5,Qh6,Kg8,g3,Qxa2,Re1,Qd2', 'Re8+,Rxe8,Qxd2', 'https://lichess.org/training/9OrqQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9oT5Z', 'Classical', 'ThomasHSeven', 1637, 'gohitree', 1625, 'e4,c5,Nf3,d6,Nc3,Nf6,e5,dxe5,Nxe5,g6,Bc4,e6,d3,Bg7,Bg5,O-O,O-O,a6,Qf3,h6,Bxf6,Bxf6,Ng4,Bg7,Ne4,Nd7,c3,Ne5,Qd1,Nxc4,dxc4,Qc7,Qd2,Kh7,Nef6+,Bxf6', 'Qxh6+,Kg8,Nxf6#', 'https://lichess.org/training/9oT5Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9oUR7', 'Rapid', 'Kalkstein', 1717, 'pchopra2508', 1728, 'e4,e5,Nf3,Nc6,Bb5,Nge7,O-O,a6,Ba4,b5,Bb3,h6,c3,Ng6,d4,exd4,Nxd4,Nxd4,Qxd4,Bb7,Bf4', 'Nxf4,Qe5+,Ne6', 'https://lichess.org/training/9oUR7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9owBv', 'Blitz', 'johnjohnjohnson', 1541, 'ashu7925', 1576, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Qf6,Nxc6,bxc6,Nc3,Bc5,O-O,Ne7,Be3,Bb6,Bxb6,cxb6,f4,O-O,Qd2,b5,Bb3,Ng6,Rae1,d6,e5,Qf5,exd6,Ba6,d7,b4,Ne2,Qc5+,Kh1,Qf5,Rd1,Rad8,Rfe1,Bb7,Nd4,Qh5,Qxb4,c5,Qxc5,Bxg2+,Kxg2,Nxf4+,Kh1,Qh3,Rg1,Rxd7,Qc4,Rxd4,Qxd4', 'Qf3+,Rg2,Qxg2#', 'https://lichess.org/training/9owBv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9oWXY', 'Rapid', 'antonio19931', 1856, 'rodtl', 1674, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nf6,Ne5,Nbd7,Nxg6,hxg6,Bf4,Nh5,Bd2,Nxg3,fxg3,Qb6,Bc3,Nf6,Bd3,Nd5,Qd2,e6,O-O-O,Nxc3,Qxc3,Qb4,Qe1,Qxd4,Bxg6,Qf6,Bd3,O-O-O,Rf1,Qg5+,Kb1,Qe7,h3,f6,Qe3,Kb8,Bc4,Rxd1+,Rxd1,e5,Qb3,Qb4', 'Rd8+,Kc7,Qxb4,Bxb4,Rxh8', 'https://lichess.org/training/9oWXY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9oZC1', 'Rapid', 'neopets26', 1903, 'cplyakap1905', 1879, 'd4,d5,c4,e6,Nf3,Nf6,g3,Bb4+,Bd2,Bxd2+,Nbxd2,O-O,Bg2,c6,O-O,Nbd7,Qc2,dxc4,Nxc4,Nb6,Nce5,Nfd7,Rfd1,f6,Nd3,Re8,Bh3,Nf8,Qb3,Qd5,Qc2,Qc4,Rac1,Qxa2,e4,Qa5,Nc5,Nbd7,Nd3,Qh5,Bg2,e5,h3,Qf7,Qc3,exd4,Nxd4,Ne6,Nf5,Qf8,Qb3,Kh8,Nf4,Nxf4,gxf4,Nc5,Rxc5,Qxc5,Nd6,Re7', 'Nf7+,Rxf7,Qxf7', 'https://lichess.org/training/9oZC1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9P3K7', 'Blitz', 'gient', 1586, 'pempele111', 1610, 'd4,d5,c4,Bf5,Bf4,e6,e3,Nf6,Nc3,a6,Be2,Nh5,Bg3,Nxg3,hxg3,Bb4,a3,Bxc3+,bxc3,O-O,cxd5,Qxd5,Bd3,Bxd3,Qxd3,h6,Nf3,Nc6,Ke2,Ne7,Qc2,Ng6,Ne5,Nxe5,dxe5,Qxe5,f4,Qd5,Rh2,e5,Rah1,Qb5+,Kf3,f5,Rxh6,gxh6,Rxh6,e4+,Kf2,Rad8,Qa2+,Kg7,Rh5,Rh8,Rg5+,Kf6,Rxf5+,Kxf5', 'Qf7+,Kg4,Qg6+,Qg5,Qxg5#', 'https://lichess.org/training/9P3K7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9P68s', 'Blitz', 'tredas1940', 1674, 'happytreefriends', 1988, 'e4,c5,Bc4,Nc6,d3,e6,a3,d5,exd5,exd5,Ba2,Nf6,h3,Bd6,Bg5,Be6,Nc3,d4,Nce2,Bxa2,Rxa2,O-O,Nf3,h6,Bh4,Re8,O-O,Qe7,Ng3,Qe6,Re1,Qxa2,Rxe8+,Rxe8,Bxf6,gxf6,Nh5,Qe6,Qd2,Ne5', 'Qxh6,Nxf3+,gxf3,Bf8,Nxf6+,Qxf6,Qxf6', 'https://lichess.org/training/9P68s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9p6r4', 'Blitz', 'nurik7979', 2109, 'ogbeks', 2166, 'e4,c5,Nc3,Nc6,Bc4,e6,d3,Nge7,Nge2,Ng6,O-O,Be7,f4,O-O,f5,Nge5,fxe6,Nxc4,exf7+,Rxf7,Rxf7,Kxf7,dxc4,Kg8,Bf4,Bf6,Qd5+,Kh8,Qxc5,b6,Qd5,Qe8,Rd1,a6,h3,h6,Rf1,Bb7,Kh1,Nd8,Qd3,Ne6,e5,Nc5,Qf5,Bh4,Kh2,Bc6,g3,Be7,Nd5,Bd8,Nd4,Rc8,a3,Ne6,Qd3,Nxf4,Nxf4,Be7,b3,Ba8,a4,Rd8,Qe3,Bg5,h4,Be7,e6,dxe6,Ndxe6,Rc8,Qd3,Bf6,Ng6+,Kg8,Qf5,Qc6,Ne7+,Bxe7', 'Qf7+,Kh8,Qxg7#', 'https://lichess.org/training/9p6r4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9P9EJ', 'Rapid', 'emre2002grs', 1692, 'dumb_pawn', 1685, 'c4,g6,d4,Bg7,e3,d6,Bd3,a6,Nf3,Nc6,O-O,h6,Nc3,Bg4,h3,Bxf3,Qxf3,e6,e4,Nge7,d5,Ne5,Qe2,Nxd3,Qxd3,e5,f4,exf4,Bxf4,O-O,Qe3,Kh7,g4,f5,gxf5,gxf5,Kh2,fxe4,Rg1,Nf5,Qxe4,Qh4,Rg2,Rae8,Qf3,Nd4,Qg4,Qxg4,Rxg4,Ne2,Nxe2,Rxe2+,Kh1,Re4,Rag1,Rf7,Bd2,Rxg4,Rxg4,Rf2,Be3,Rxb2', 'Rxg7+,Kxg7,Bd4+,Kg6,Bxb2', 'https://lichess.org/training/9P9EJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9PAVv', 'Blitz', 'pedrogil', 2240, 'ASKETT', 2059, 'e4,d5,exd5,Nf6,d4,Bg4,Nf3,Nxd5,Be2,Nc6,h3,Bh5,c4,Nb6,d5,Bxf3,Bxf3,Ne5,b3,e6,O-O,Qf6,Nc3,Nxf3+,Qxf3,Qxf3,gxf3,Bb4,Nb5,O-O-O,dxe6,fxe6,Nxa7+,Kb8,Nb5,c6,Bf4+,Ka8,Nc7+,Ka7,Nxe6,Rd7,Be3,Re8,Nc5,Bxc5,Bxc5,Rd3,a4,Ka6,Rab1,Rxf3,Be3,Rxh3,a5,Nd7,b4,Rh5,Rb3,Re6,Bd4,Rh4', 'b5+,cxb5,cxb5+,Kxa5,Ra1#', 'https://lichess.org/training/9PAVv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9pBi4', 'Rapid', 'Aniketvermadav', 1756, 'Sastha24', 1761, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Re1,O-O,c3,d6,d4,exd4,cxd4,Bb6,d5,Ne5,Nxe5,dxe5,Nc3,Ng4,Be3,Nxe3,fxe3,Kh8,Na4,f5,Nxb6,axb6,exf5,Bxf5,e4,Bd7,Qh5,Qe7,Rf1', 'Qc5+,Kh1,Qxc4', 'https://lichess.org/training/9pBi4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Pcuo', 'Blitz', 'Marb2020', 2521, 'NM mnmassari', 2206, 'd4,d5,Nf3,c6,Bf4,Nf6,Nbd2,e6,e3,Bd6,Ne5,Qc7,Bd3,O-O,O-O,c5,c4,dxc4,Ndxc4,Nd5,Bg3,Bxe5,Nxe5,Qd8,dxc5,Qa5,Qh5,Nf6,Qh4,Qxc5,Ng4,Nbd7,Rad1,Qh5,Nxf6+,Nxf6,Qb4,Nd5,Qb3,b6,e4,Nf6,Bd6,Rd8,Be7,Re8,Bxf6,gxf6,Bb5,Rf8,Bc6,Rb8', 'Qg3+,Qg5,Qxb8', 'https://lichess.org/training/9Pcuo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9pdiM', 'Rapid', 'sarcin', 1762, 'bedridmrbg', 1840, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d5,Nxc6,bxc6,exd5,cxd5,Nc3,Be6,Qf3,c6,Bd3,Nf6,Bd2,Be7,Ba6,O-O,Bb7,Rb8,Bxc6,Rxb2,Ba4,d4,Ne4,Rxa2,Rxa2,Bxa2,Nxf6+,Bxf6,O-O,Bd5,Qf5,Be6,Qf3,Qd5,Qa3,Qa2,Qb4,Qc4,Qa5,Ra8,Bb3,Qc8,Ba4,a6,f4,Be7,f5,Bd7,Bb3,d3,Qd5,dxc2', 'Qxf7+,Kh8,Qxe7', 'https://lichess.org/training/9pdiM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9PeGS', 'Rapid', 'ChrisPrattIsCGI', 1844, 'HARHAVBEC', 1955, 'd4,d5,e3,c5,c3,cxd4,exd4,Nf6,Bd3,Bg4,Qb3,Qd7,Nd2,Nc6,f4,e6,Ngf3,Bh5,O-O,Bd6,Ne5,Qc7,Qc2,O-O,Ndf3,Bg6,Nxg6,hxg6,Ne5,Rac8,Qb1,Qb6,Rf3,Bxe5,fxe5,Nxe5,Rh3,Nxd3,Qxd3,Ne4,Qe2,Rfe8,Qg4,Qd8,Bf4,Qf6,Rf1,Qf5,Qh4,Qh5,Qxh5,gxh5,Rxh5,f6,Rf3,Rc6,Rfh3,Kf7,Rh7,Kg6,Bc1,b5,R7h4,b4,Rg4+,Kf7,Rh7,Re7', 'Rgxg7+,Kf8,Rxe7', 'https://lichess.org/training/9PeGS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9PfsK', 'Classical', 'deepakmasand', 1671, 'Ufuk2', 1636, 'e4,e5,Nf3,d6,h3,Nc6,c3,Nf6,Bd3,d5,exd5,Qxd5,Bc2,e4,Qe2,Be7,Bb3,exf3,gxf3,Qd6,d4,O-O,Be3,Re8,Nd2,Bf5,Nc4,Qd7,Rd1,Rad8,Ne5,Nxe5,dxe5,Qxd1+', 'Bxd1,Bd3,Qd2', 'https://lichess.org/training/9PfsK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9pgeL', 'Rapid', 'Splintz', 1753, 'Pogran', 1763, 'e4,e5,Qh5,Nc6,Bc4,Qe7,Nc3,Nf6,Qd1,d6,d3,Qd8,Bg5,Be7,h3,Nd4,Nf3,c6,Nxd4,exd4,Ne2,c5,c3,dxc3,Nxc3,O-O,Qf3,Bd7,Nd5', 'Nxd5,Bxd5,Bxg5', 'https://lichess.org/training/9pgeL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9pILj', 'Rapid', 'Kanjoo', 1749, 'Mishy01', 1743, 'd4,d5,Bf4,c5,dxc5,e6,e3,Bxc5,c3,Qb6,Qc2,Nf6,Nd2,O-O,Ngf3,Nc6,Bd3,Kh8,Ng5,h6,h4,e5,Bxe5,Nxe5,O-O-O,Nxd3+,Qxd3,Qa5,a3,g6,Nb3,Qb6,Nxf7+,Rxf7,Qxg6,Rh7,Nxc5,Qxc5,Qxf6+,Kg8,Qd8+,Qf8,Qxd5+,Qf7,Qd8+,Kg7,Rhf1,Bg4,Qxa8,Bxd1,Kxd1,Qd5+,Kc1,Qa2,Qxb7+,Kg6,Qe4+,Kg7,Kc2,Rh8,Qb7+,Kg6,Qxa7,Qe6,Qd4,Rb8,g4,Qb3+,Kd3,Qxb2,f4,Qb5+,Ke4', 'Re8+,Kf3,Qxf1+', 'https://lichess.org/training/9pILj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9pIPL', 'Rapid', 'Martindosk', 1881, 'samihayek', 1676, 'e4,c5,Nf3,e6,Be2,a6,O-O,Nc6,c3,d5,exd5,exd5,d4,Nf6,Bg5,h6,Bxf6,Qxf6,Bd3,Bd6,Re1+,Be6,Nbd2,cxd4,cxd4,Nxd4,Nxd4,Qxd4,Nf3,Qxb2,Rxe6+,fxe6,Bg6+,Kd7,Rb1,Qf6,Bd3,b5,a4,Rhf8,axb5,Rab8,bxa6,Rxb1,Bxb1,Bc5,Qa4+,Kd6,a7,Qb2,Bc2,Ra8,Qf4+,Kc6,Ba4+,Kb6', 'Qb8+,Ka5,Qxb2', 'https://lichess.org/training/9pIPL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9PjjG', 'Blitz', 'aps245', 1620, 'zorro1312', 1554, 'd4,e5,dxe5,Nc6,Nf3,Qe7,Bg5,Qb4+,Nbd2,Qxb2,e6,dxe6,Nc4,Qc3+,Ncd2,Nb4,Rc1,Nxa2,Rb1,Nb4,Rc1,Na2,Rb1,Ba3,e3,b6,Bd3,Nb4,Rxb4,Bxb4,O-O,Bb7,Be4,Bxe4,Nxe4,Qc6,Qd3,Be7,Rd1,Rd8', 'Qxd8+,Bxd8,Rxd8#', 'https://lichess.org/training/9PjjG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9pjOO', 'Rapid', 'volos65', 2346, 'nanoksupriyadi', 2390, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Nc6,Nc3,Bg7,Be3,Nf6,f3,Qb6,Nf5,Qxb2,Na4,Qe5,Nxg7+,Kf8,Bh6,b5,Nc5,Qc3+,Ke2,Kg8,Nd3,d5,e5,Ng4,Qd2', 'Nd4+,Kd1,Qxa1+', 'https://lichess.org/training/9pjOO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9pKuq', 'Rapid', 'Coccia2', 1673, 'Leonnellus', 1644, 'd4,Nf6,Nf3,Nc6,g3,e6,Bg2,Ne4,O-O,d5,c3,Bd6,Nbd2,O-O,Nh4,Nf6,Re1,g5,Nhf3,e5,Nxg5,h6,Ngf3,e4,Nh4,Bg4,Nf1,h5,Ne3,a6,Nef5,Ne7,Qd2', 'Nxf5,Qg5+,Ng7', 'https://lichess.org/training/9pKuq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9pmJj', 'Rapid', 'godzilla10', 1656, 'thalesinyegeni', 1630, 'e4,e5,Nf3,Qf6,Bc4,Bc5,O-O,d6,c3,c6,d4,exd4,cxd4,Bb6,e5,dxe5,dxe5,Qg6,Re1,Be6,Bxe6,Qxe6,Nc3,h6,Be3,Nd7,Bxb6,Nxb6,Qd6,Qxd6,exd6+,Kd7,Rad1,Nf6,Ne5+,Kc8,a4,Rf8,a5,Nbd7,Nxd7,Nxd7,Re7,b5,a6,Rb8,Rde1,Kd8,b4,Rb6,R7e3,Rxa6,Ne4,Ra4', 'Nc5,Nxc5,bxc5', 'https://lichess.org/training/9pmJj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9pNiZ', 'Rapid', 'mustapha82', 1974, 'MohamedH_Khadra', 1905, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,g6,Nxd4,Bg7,Nxc6,bxc6,O-O,Ne7,Nc3,O-O,Bg5,Bb7,Qd2,a5,Rad1,d6,Rfe1,Kh8,Bh6,a4,Bxg7+,Kxg7,Qd4+,Kg8,Qf6,Nc8', 'Bxf7+,Rxf7,Qxd8+', 'https://lichess.org/training/9pNiZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9po8V', 'Classical', 'Berny27', 1778, 'seb5eme', 1757, 'e4,c5,f4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Nc3,Nc6,Be2,cxd4,Nxd4,Bc5,Be3,Nxd4,Bxd4,Bxd4,Qxd4,O-O,O-O-O,Be6,Bf3,Qa5,h3,Rfd8,g4,h6,f5,Bd7,Nxd5,Nxd5,Bxd5', 'Bc6,Bxc6,Rxd4', 'https://lichess.org/training/9po8V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9PoLA', 'Blitz', 'sigudula', 1587, 'RomeoSilva', 1607, 'c4,e5,Nc3,c6,g3,Nf6,Bg2,d5,cxd5,cxd5,d3,Nc6,Nf3,d4,Na4,Bb4+,Bd2,Be6,O-O,O-O,Bg5,Rc8,Rc1,Bxa2,Nc5,Qd5,Nxb7,Bb3,Rc2,Bxc2,Qxc2,Ne7,Qa4,Qxb7,Nxe5,Bd6,Bxb7,Rb8,Bg2,Bxe5,Bxf6,Bxf6,Rc1,Nf5,Rc7,h6,g4,Nh4,h3,Rxb2,Qxa7,Rxe2,Bd5', 'Re1+,Kh2,Be5+,f4,Bxf4#', 'https://lichess.org/training/9PoLA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9pp6n', 'Bullet', 'oceansroar', 1620, 'mbhatnagar', 1599, 'e4,e5,d3,Nf6,f4,exf4,Bxf4,Bc5,d4,Bb6,Nc3,O-O,Nb5,Nxe4,Qf3,d5,O-O-O,a6,Nc3,f5,b3,Qe7,Nxd5,Qa3+,Kb1,Be6,Bc4,Nc6,Nxb6,Bxc4,Nxc4,Qb4,Ne2,b5,Nb2,Rad8,c3,Qa3,d5,Na5,d6,cxd6,Qd3,Kh8,Rhf1,d5,Nd4,Qc5,Ne6,Nxc3+,Ka1', 'Nxb3+,axb3,Qa3#', 'https://lichess.org/training/9pp6n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9puDM', 'Blitz', 'Teilchen', 1735, 'BilboChess', 1664, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,c4,Ne7,Bd3,Qc7,Be3,Nbc6,O-O,Nxd4,Bxd4,Nc6,Be3,h5,Nc3,h4,h3,Be7,Rc1,g5,f4,Rg8,f5,g4,hxg4,h3,gxh3,Qg3+,Kh1,Qxh3+,Kg1,Rxg4+,Qxg4,Qxg4+,Kf2,Ne5,Be2,Qh4+,Kg2,Ng4,Kf3,Qh3+,Kf4,Nxe3,Rf3,Qh2+,Kxe3,Bc5+,Kd3,b5,cxb5,axb5,Nxb5,Rxa2,Rxc5,Rxb2', 'Rxc8+,Ke7,f6#', 'https://lichess.org/training/9puDM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9puTg', 'Rapid', 'diniesaputra', 1968, 'jun80', 1915, 'e4,e5,Bc4,Nf6,Nc3,c6,Nf3,d5,exd5,cxd5,Bb3,d4,Ne2,e4,Ne5,d3,Nxf7,Qd7,Nxh8,dxe2,Qxe2,Nc6,Nf7,Nd4,Qd1,Nxb3,axb3,Qxf7,O-O,Bg4,Qe1,Be7,h3,Qh5,Kh2,Be2,Rh1,Bd6+,g3,Ng4+,Kg1,Bf3,h4,Bxh1,Kxh1,Kf7,Kg2,Re8,Rxa7,Qf5,Rxb7+,Kg8,Qe2,e3,dxe3,Qd5+,Qf3,Qxf3+,Kxf3,Ne5+,Kg2,Rf8,Bd2,Ng4,Be1,h5,Rd7,Bc5,b4,Bb6,c4,Bxe3,fxe3,Nxe3+,Kh2,Nxc4,Bc3,Rf7,Rd8+,Kh7,Rd5,g6,Rd8,g5,Rh8+,Kg6,hxg5,Kxg5,Rg8+,Kh6,Rh8+,Kg6,Rg8+,Kh6,Rc8,Ne3,Rc6+,Kh7,Rc8,Rf2+,Kh3,Ng4,Kh4,Kg6,Rg8+,Kh6,Rh8+,Kg6,Rg8+,Kh6,Bg7+,Kh7,Bd4', 'Rh2+,Kg5,Kxg8', 'https://lichess.org/training/9puTg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9PxPC', 'Blitz', 'FM rdarruda', 2464, 'treningowekonto', 2345, 'Nf3,e6,d4,f5,Nbd2,Nf6,e3,b6,Bd3,Bb7,Qe2,Ne4,c4,Be7,b3,O-O,Bb2,d5,Ne5,Nd7,Nxd7,Qxd7,f3,Nxd2,Qxd2,a5,O-O,Bf6,Rad1,Rfd8,Kh1,Qe7,Qe2,a4,e4,fxe4,fxe4,axb3,axb3,Ra2,Bb1,Raa8,e5,Bg5,Qh5,Bh6,Bc1,dxc4,Bxh6,gxh6,bxc4,Qg5,Qf7+,Kh8', 'Qxh7#', 'https://lichess.org/training/9PxPC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Q3oL', 'Rapid', 'Eversonxxxxx', 1963, 'Vivek_Dahiya', 1931, 'e4,c5,Nf3,g6,d3,Bg7,c3,Nc6,Be3,d6,Be2,Nf6,Nbd2,Ng4,O-O,Nxe3,fxe3,O-O,Re1,Qb6,Nc4,Qd8,d4,b5,Ncd2,cxd4,exd4,a6,Bd3,Bb7,b4,e5,d5,Ne7,Nf1,f5,Qc2,fxe4,Bxe4,Bxd5', 'Bxd5+,Nxd5,Qb3,Kh8,Qxd5', 'https://lichess.org/training/9Q3oL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9q4Ii', 'Blitz', 'Mr_Wolf_88888888', 1696, 'duoix', 1829, 'e4,b6,Nf3,Bb7,d3,e6,Be3,Bc5,Bxc5,bxc5,Nc3,d5,exd5,exd5,Be2,Nf6,O-O,O-O,Re1,Nbd7,a4,d4,Nb5,a6,Na3,Nd5,Nc4,Nb4,Nce5,Nxe5,Nxe5,Qd5,Bf3,Qd8,Bxb7,Rb8,Nc6,Nxc6,Bxc6,Rxb2,Rb1,Rxb1,Qxb1,Qd6,Be4,f5,Bf3,c6,Qb6,Rb8,Qxa6,h6,Qxc6,Qd8,Bd5+,Kh7,Qxc5,Qe8,Rxe8', 'Rb1+,Re1,Rxe1#', 'https://lichess.org/training/9q4Ii');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9q5wB', 'Rapid', 'Penguingate', 1662, 'giray123', 1669, 'd4,d5,Bf4,c5,Nf3,cxd4,Nxd4,Nc6,Nc3,e5,Ndb5,exf4,Nxd5,Qa5+,Nbc3,Bb4,Qd3,Nge7,O-O-O,O-O,e4,Nxd5,exd5,Ne5,Qd4,Bxc3,bxc3,Bg4,Qxe5,Bxd1,Kxd1,Rfe8,Qd4,Rad8,Bc4,b5,Bb3,b4,cxb4,Qb6,Qxb6,axb6,c4,Rd7,f3,Rde7,Rg1,h5,Kd2,Re2+,Kd3', 'R8e3+,Kd4,Rd2#', 'https://lichess.org/training/9q5wB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9QFf7', 'Classical', 'JONATHA_MATA', 1779, 'XX100ZZ100', 1778, 'd4,Nf6,c4,e6,Bf4,c6,e3,Bb4+,Nc3,Qa5,Qc2,Bxc3+,bxc3,Qf5,Bd3,Qg4,g3,Qh5,Ne2,Qf3,O-O,Qg4,Be5,h5,Nf4,h4,h3,Qg5,Qe2,hxg3,fxg3,Qxg3+,Qg2,Qxe3+,Kh2,d5,cxd5,cxd5,Bb5+,Nc6,Bxf6,gxf6,Nxd5,Qh6,Nxf6+,Kd8,d5,Ne5,dxe6,Bxe6,Rad1+,Ke7', 'Qxb7+,Kf8,Qxa8+', 'https://lichess.org/training/9QFf7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9QGoX', 'Rapid', 'Ayushalay', 1774, 'chaunv92', 1818, 'd4,d5,c4,e6,Nc3,Ne7,cxd5,exd5,Bf4,g6,Be5,Rg8,Nf3,Nbc6,Bg3,Nf5,e3,Bb4,a3,Ba5,b4,Bb6,Ne5,Nxg3,Nxc6,bxc6,hxg3,Be6,Rxh7,Qe7,Ba6,Qf6,Bb7,Rd8,Bxc6+,Bd7,Nxd5,Qxc6,e4,Be6,Nf6+,Kf8,Rc1,Qb7,Nxg8,Kxg8,Rh4,Rxd4,Qf3,Rd7,Qf6,Bxf2+,Kxf2,Qb6+,Rc5,Rd2+,Ke1,Rd1+,Kf2,Rd2+,Ke3,Re2+,Kd4,Qd6+,Rd5,Qb6+,Rc5,Rd2+,Ke5', 'Qd6#', 'https://lichess.org/training/9QGoX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9qHQF', 'Rapid', 'PLOCHARSKIA', 1705, 'szwtomas', 1691, 'Nf3,d5,c4,c6,cxd5,cxd5,d4,Nf6,Bg5,Bf5,g3,e6,Bg2,Nbd7,O-O,Be7,Nc3,O-O,Nh4,h6,Bd2,Bh7,Qb3,Nb6,Rab1,Bxb1,Rxb1,Nfd7,a4,Bxh4,gxh4,Qxh4,a5,Nc4,Qxb7,Nxd2,Rd1,Nc4,b3,Ncb6,axb6,Nxb6,Nb5,Rfb8,Qa6,Qd8,Rc1,Rc8,Rxc8,Qxc8,Qa2,Qd7,Nc3,Qc6,Na4,Nxa4,bxa4,Qc4', 'Qxc4,dxc4,Bxa8,c3,Be4', 'https://lichess.org/training/9qHQF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9QOIC', 'Rapid', 'wallenchess', 1648, 'FlippyT', 1605, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Bc4,Nf6,Nf3,a6,Ng5,e6,a3,b5,Qf3,Ra7,Ba2,Bb7,Qe3,Nc6,Nxf7,Kxf7', 'Qxe6+,Kg6,Qf7+', 'https://lichess.org/training/9QOIC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9qPEj', 'Classical', 'fareast1914', 1995, 'Mironenko', 1932, 'd4,c6,c4,d5,Nc3,a6,e3,Bf5,Bd3,Bg6,Nf3,e6,O-O,Bd6,e4,dxe4,Nxe4,Bc7,Re1,Ne7,Bg5,O-O,Bxe7,Qxe7,d5,cxd5,cxd5,exd5,Nc3,Qd6,Bxg6,hxg6,Qxd5,Nc6,Qg5,Qb4,Nd5,Qd6,Qh4,Bd8,Ne7+,Bxe7,Rxe7,Rfd8,Rae1,Nxe7,Ng5,Kf8', 'Qh8+,Ng8,Nh7#', 'https://lichess.org/training/9qPEj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9qQic', 'Blitz', 'boVerik', 1545, 'sarathkumar02', 1559, 'c4,e5,Nc3,Nf6,g3,c6,Bg2,d5,cxd5,cxd5,d4,e4,f3,Bf5,Bg5,Be7,Bxf6,Bxf6,e3,Nc6,fxe4,dxe4,Nxe4,O-O,Nxf6+,Qxf6,Nf3,Bg4,O-O,Rfe8,Qb3,Qe7,Rac1,Qxe3+,Qxe3,Rxe3,Ne5,Be6,Nxc6,bxc6,Rxc6,Rb8,b3,Re2,d5', 'Rxg2+,Kxg2,Bxd5+,Kg1,Bxc6', 'https://lichess.org/training/9qQic');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9qs5W', 'Classical', 'Sagnik123', 1728, 'se040184jaa', 1626, 'd4,d5,Bf4,Bf5,e3,c6,Nf3,e6,Bd3,Qa5+,c3,Bxd3,Qxd3,Nd7,O-O,Qd8,Nbd2,Nb6,Rfe1,Be7,e4,h6,e5,Bg5,Bg3,Be7,b3,g5,h3,h5,Kf1,g4,Ng1,h4,Bh2,gxh3,Nxh3,Nh6,Bf4,Nf5,Nf3,Rg8,Nfg5,Bxg5,Bxg5,Rxg5,Nxg5,Qxg5,Qf3,O-O-O,Ke2,Rh8,Rh1,Qg7,Rag1,Rh6,Kd2,Qg5+,Kc2,Qg6,Kb2,a5,Qe2,a4,Qd1,axb3,axb3,Kc7,Rh3,Rh5', 'g4,Rh7,gxf5', 'https://lichess.org/training/9qs5W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9QUHk', 'Blitz', 'B_Stinson', 2468, 'IM Meysonn', 2697, 'e4,c5,Nf3,e6,c3,Nf6,e5,Nd5,d4,cxd4,cxd4,d6,a3,Nc6,Bd3,g6,O-O,Bg7,Qe2,O-O,Re1,b6,Nc3,Nxc3,bxc3,dxe5,dxe5,Bb7,Bg5,Qc7,Bf6,Bxf6,exf6,Qf4,Ne5,Qxf6,Nd7,Qg5,Nxf8', 'Nd4,Be4,Nxe2+', 'https://lichess.org/training/9QUHk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9qXcL', 'Blitz', 'GiovanyBarrientos', 1696, 'Hemanya', 1633, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Be3,Bg7,Bc4,Nf6,f3,O-O,O-O,e6,Nc3,d5,exd5,exd5,Nxc6,bxc6,Bb3,Re8,Qd2,Rb8,Bh6,Bh8,Rab1,Ba6,Rfe1,Qb6+,Kh1,Bb5,Qg5,d4,Ne4,Nxe4,Rxe4,d3,Rf4,Rb7,Rf6,dxc2,Rxg6+,hxg6', 'Qxg6+,Bg7,Qxg7#', 'https://lichess.org/training/9qXcL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9QZkJ', 'Rapid', 'KeepThePeace', 1909, 'Haagandaz', 1694, 'd4,d5,c4,c6,Nf3,Nf6,e3,Bg4,Nc3,e6,Qc2,Nbd7,h3,Bxf3,gxf3,Bb4,a3,Bxc3+,bxc3,O-O,e4,dxc4,Bxc4,Nb6,Bd3,Qe7,e5,Nfd5,Bxh7+,Kh8,Rg1,g6,Bxg6,fxg6,Rxg6,Rf7,Bg5,Qd7,c4,Nc7,Bf6+,Rxf6,exf6,Qh7,O-O-O,Nxc4,Rdg1,Nd6,Rg7,Qh6+,Kb1,Nf5,Rxc7,Rd8,f7,Qf6,Rg8+,Rxg8,fxg8=Q+,Kxg8,Rxb7,Qxd4,Rb8+,Kf7,Qxc6,Qd1+,Kb2,Qe2+,Qc2', 'Qe5+,Ka2,Qxb8', 'https://lichess.org/training/9QZkJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9R6x9', 'Classical', 'carpenterdale', 1791, 'Gh0sT420k1LL4R2008', 1909, 'd4,d5,c4,Nf6,Nc3,e6,Bg5,Be7,cxd5,Nxd5,Bd2,Nc6,e4,Nxc3,bxc3,Bg5,Nf3,Bxd2+,Nxd2,Ne7,Bd3,c6,O-O,e5,Nb3,Be6,Nc5,exd4,Nxe6,fxe6,e5,dxc3,Qh5+,Ng6', 'Bxg6+,hxg6,Qxh8+', 'https://lichess.org/training/9R6x9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9rBCu', 'Rapid', 'Lulzov', 1923, 'Gambitmat86', 1886, 'c4,Nf6,Nc3,e5,Nf3,Nc6,g3,Bb4,Bg2,Bxc3,dxc3,d6,O-O,Be6,b3,O-O,Bg5,h6,Be3,Qe7,Qc2,Rad8,Rad1,d5,cxd5,Nxd5,Bc1,Nb6,c4,Rxd1,Rxd1,Rd8,Rxd8+,Qxd8,Bb2,f6,Bc3,Qd7,Nd2,Bh3,Bd5+,Be6,Bxe6+,Qxe6,Ne4,Qf5,f4,Nd4,Bxd4,exd4,c5,Nd5,Qd3,Nc3,Nxc3', 'Qxd3,exd3,dxc3', 'https://lichess.org/training/9rBCu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9RBvm', 'Rapid', 'Legend_Maty', 1807, 'Jan_Botek', 1750, 'Nc3,d5,d4,Nf6,Nf3,e6,g3,Nbd7,Bg2,b6,Bg5,Be7,O-O,O-O,Qd2,c5,dxc5,bxc5,Rad1,Bb7,a3,h6,Bf4,Rc8,Nb5,Qb6,a4,a6,Nc3,d4,Na2,Bd6,Bxd6,Qxd6,c3,Rfd8,cxd4,cxd4,Nxd4', 'Bxg2,Kxg2,Qd5+,Nf3,Qxa2', 'https://lichess.org/training/9RBvm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9rduA', 'Bullet', 'BobbyWisher', 1876, 'notabene21', 1848, 'e4,c5,f4,d6,Nf3,Nf6,e5,dxe5,fxe5,Nd5,Bc4,e6,d3,Nc6,Nc3,Be7,O-O,O-O,Ne4,Qc7,a3,Nxe5,Bf4,Nxf3+,Qxf3,Qd8,Qg3,Nxf4,Rxf4,b6,Raf1,Bb7,Nf6+,Kh8,Nh5,g6,Nf6,Bxf6,Rxf6,Qe7,Qh4,Kg7,Qg5,Rae8,Qe5,Kg8,h4,Bd5,h5,Bxc4,dxc4,Rd8,h6,Qd6', 'Rxg6+,fxg6,Qg7#', 'https://lichess.org/training/9rduA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9RgHm', 'Rapid', 'Crytash', 1698, 'AKIba123', 1693, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,g6,f3,Bg7,Be3,O-O,Qd2,Nxd4,Bxd4,d6,O-O-O,Be6,Kb1,a5,g4,h6,h4,a4,a3,Kh7,g5,Nh5,Bxg7,Nxg7,gxh6,Nh5,Be2,Ng3,Rhe1,f5,Rg1,f4,Qd4,Kxh6,Rxg3,fxg3,f4,Rxf4,Qe3,Qf8,Rf1,g5', 'hxg5+,Kg7,Rxf4', 'https://lichess.org/training/9RgHm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Rgiw', 'Rapid', 'Yadamjav', 1695, 'TheCorinthianMan', 1724, 'e4,c5,d3,Nc6,c4,Nf6,Nf3,e6,Be2,d5,exd5,exd5,O-O,d4,Re1,Be7,h3,b6,Bg5,Bb7,Nh4,O-O,Nf5,Bc8,Bf3,Bxf5,Bxc6,Rc8,Bxf6,Bxf6,Bd5,Re8,Na3,Rxe1+,Qxe1,Bxd3,Rd1,Bg6,Nb1,Qd7,b3,Re8,Qd2,Be4,Bxe4,Rxe4,Nc3,Re6,Nd5,Bd8,Re1,Qe8,Rxe6,Qxe6,Kh2,h6,g3,a6,h4,b5,a3,bxc4,bxc4,a5,Qd3,Qe1,Kg2,Qe6,Nf4,Qe5,Nd5,g5,hxg5,Bxg5', 'f4,Qe6,fxg5', 'https://lichess.org/training/9Rgiw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9RigR', 'Rapid', 'Yory21', 1778, 'Chesspower1', 1780, 'd4,Nf6,Bf4,g6,Nc3,d5,f3,Bf5,g4,Bd7,h4,Bg7,Qd2,c6,Bh6,Bxh6,Qxh6,Qb6,O-O-O,Na6,a3,O-O-O,Qd2,Ne8,Nh3,Nd6,e3,f6,Nf4,e5,dxe5,fxe5,Nd3,e4,Ne5,Rhf8,Nxd7,Rxd7,fxe4,Rxf1,Rhxf1,Nc4,Qf2', 'Qxb2#', 'https://lichess.org/training/9RigR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9RInA', 'Rapid', 'Darkjuanky', 1852, 'rishla', 1859, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bb5,Bg4,O-O,Nf6,h3,Bxf3,Qxf3,e6,c4,dxc4,Bxc4,Be7,Be3,O-O,Rd1,Rc8,Nc3,Nb4,Bb3,Nbd5,Nxd5,Nxd5,Rac1,Nxe3,fxe3,Rxc1,Rxc1,b6,Qb7,Qb8,Rc7,Qxb7,Rxb7,Bg5,Kf2,e5,dxe5,h6,e6,Kh7,e7,Re8,Bxf7,Rxe7,Rxe7,Bxe7,h4,g5,h5,Kg7,Bg6,Kf6,Kf3,Bc5,e4,Ke5,a3,a5,b3,Bxa3,Ke3,Bc5+,Kd3,b5,g3,a4,bxa4,bxa4,Bf7,a3,Ba2,Bd6,Ke3,Kf6,Kf3,Ke7,Kg4,Kf6,Bd5,Ke5,Kf3,Kd4,g4,Be5,Ba2', 'Kc3,Be6,Kb2', 'https://lichess.org/training/9RInA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9rJ2z', 'Blitz', 'VERRDE', 1689, 'T0131', 1605, 'e4,c5,Nf3,Nc6,Nc3,Nf6,Bc4,d6,d4,cxd4,Nxd4,a6,a4,g6,Bg5,Bg7,O-O,O-O,Re1,Nd7,Nf3,Nde5,Nxe5,Nxe5,Bb3,Qc7,a5,Bg4,f3,Bd7,Bxe7,Rfe8,Nd5,Qc5+,Kh1,Bb5,c4,Bxc4,Bxc4,Qxc4,Rc1,Qa2,b4,Nc4,Rc2,Qb3,Bf6,Rac8,Bxg7,Kxg7,Qd4+,Kg8,Nf6+,Kf8,Nxh7+,Kg8,Nf6+,Kf8,Nxe8,Kxe8,Qh8+,Kd7,Qh3+,Kd8,Qh4+,Kd7,Qg4+,Kd8,Qg5+,Kd7,Rec1,Qd3,Qd5,Qe3,Rxc4', 'Qxc1+,Rxc1,Rxc1+,Qd1,Rxd1#', 'https://lichess.org/training/9rJ2z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Rkyl', 'Blitz', 'FM AlfredoAguileraR', 2441, 'edwinmartinez42', 2122, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,b6,Bd3,Bb7,O-O,Be7,f4,Qc7,Qg4,g6,Be3,Nf6,Qg3,h5,Rae1,Ng4,Nb3,Nxe3,Rxe3,h4,Qg4,Nc6,h3,b5,Nd5,Qb8,Nxe7,Nxe7,f5,gxf5,exf5,Rg8,fxe6,dxe6,Qe2,Rxg2+,Qxg2,Bxg2,Kxg2,Nd5,Ref3,Ra7,Nc5,Qb6,b4,Nxb4,Ne4,Nd5,Kh1,Ne3,Nf6+,Kf8,Rg1,Nf5,Bxf5,exf5', 'Rg8+,Ke7,Nd5+,Kd6,Nxb6', 'https://lichess.org/training/9Rkyl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9rq2O', 'Rapid', 'Jrpipoca', 1872, 'Pol-333', 1902, 'd4,d5,Nf3,Nf6,Bg5,Ne4,Bf4,g6,Qc1,Bg7,Bh6,O-O,Bxg7,Kxg7,Nbd2,f5,Ne5,Nd7,Ndf3,c5,c3,e6,e3,f4,Nxd7,Bxd7,Ne5,fxe3,Qxe3,cxd4,Qxd4,Qf6,Nf3,Qxd4,cxd4,Rac8,Bd3,Nd6,O-O,Rf4,Ne5,Rxd4,Bxg6,hxg6,Nxd7,Rc2,b3,Rdd2,a3,Rb2,b4,Ra2,Nc5,e5,Nd3,e4,Nf4,Rxa1,Rxa1,Kf6,Kf1,g5,Ne2,Nc4,Ke1,Ke5,a4,d4,Rc1,Rxe2+,Kxe2,d3+,Kd1,Kd4,h4,gxh4,g4,e3,fxe3+,Nxe3+,Kd2', 'Nc4+,Rxc4+,Kxc4', 'https://lichess.org/training/9rq2O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9RTE5', 'Blitz', 'FM wanyaland', 2370, 'HawleA', 2389, 'd4,d5,c4,c6,e3,Nf6,Nc3,a6,Nf3,b5,b3,Bg4,Bd2,Nbd7,Be2,e6,O-O,Be7,Ne5,Nxe5,dxe5,Bxe2,Qxe2,Nd7,cxd5,cxd5,f4,O-O,e4,Bc5+,Kh1,d4,Nd1,Rc8,Nf2,Bb6,Nd3,Nc5,Bb4,a5,Bxc5,Bxc5,f5,Qg5,Rf3,Ba3,Rg3,Qh6,Rf1,exf5,exf5,Rfe8,Qg4,Bf8,Rh3,Qd2,e6,fxe6,fxe6,Rc2,Nf4,Rc1,Rf3,Rxf1+,Rxf1,Bd6,Nh5,Re7,Qf5,h6,Qg6,Qg5', 'Nf6+,Qxf6,Rxf6', 'https://lichess.org/training/9RTE5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9RTup', 'Rapid', 'falahah', 2009, 'Demonique', 1965, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Bd3,Ne7,O-O,Nbc6,Re1,Bg4,c3,Qd7,Bg5,f6,Bh4,O-O,Nbd2,Nf5,Qc2,g6,h3,Bxf3,Nxf3,Nxh4,Nxh4,f5,Qb3,Kg7,Nf3,Na5,Qc2,Nc6,Re2,Rae8,Rae1,Re7,Ng5,Rfe8,b3,Nd8,Nf3,Nf7,Kf1,c6,Rxe7,Rxe7,Rxe7,Qxe7,Qe2,Qxe2+,Kxe2,Kf6,c4,Bb4,Bc2,Bd6,Kd3,Nd8,c5,Bc7,b4,Ne6,g3,b5,a4,a6,axb5,axb5,h4,h6,Ke3,f4+,gxf4,Bxf4+,Ke2,Bc7,Ke3,g5,hxg5+,hxg5,Bh7,Nf4,Bb1,Ne6,Bh7,Bf4+,Kd3,Nc7,Kc3,Ne8,Kd3,g4,Nh4,Kg5,Ng6,Nf6,Nf8,Nxh7,Nxh7+,Kf5,Nf8,Bc7,Nd7,Ke6,Nb6,Bh2,Ke3,Bc7,Nc8,Kd7,Nb6+,Ke6,Nc8,Bb8,Ke2,Bf4,Kd3,Kd7,Nb6+,Kc7,Kc3', 'Be3,fxe3,g3,Kd3,g2', 'https://lichess.org/training/9RTup');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9rv42', 'Blitz', 'stefan-wunderbar', 1590, 'denseman', 1604, 'd4,Nf6,c4,d5,Nc3,c6,Nf3,Nbd7,Bf4,g6,e3,Bg7,Bd3,Nh5,Bg3,Nxg3,hxg3,dxc4,Bxc4,Nb6,Bb3,Nd5,Ne4,Qa5+,Kf1,O-O,Neg5,h6,Qd3,hxg5,Nxg5,Nf6,Qxg6,Bf5', 'Bxf7+,Rxf7,Qxf7#', 'https://lichess.org/training/9rv42');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9rVci', 'Classical', 'mustafaelsaeed', 1931, 'mallu2', 1933, 'e4,c5,Nf3,e6,c3,d5,exd5,exd5,h3,Nf6,d4,Nc6,Bb5,cxd4,cxd4,Bb4+,Nc3,Qe7+,Be3,Ne4,Qc2,Bf5,Qc1,Rc8,O-O,O-O,Nxd5,Qd6,Nxb4,Nxb4,Qd1,Nc2,Rc1,Nxe3,fxe3,Qg3,Bd3,Bxh3,Qe2,Rxc1,Rxc1,Nf6,Kh1,Ng4,gxh3', 'Nf2+,Qxf2,Qxf2', 'https://lichess.org/training/9rVci');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9RvQW', 'Rapid', 'SVWB', 1800, 'Sophia_209274', 1824, 'e4,d5,exd5,Nf6,c4,c6,dxc6,Nxc6,Nc3,Bf5,Nf3,e6,Nh4,Bg6,Nxg6,hxg6,d3,Bc5,Be2,a6,Be3,Bxe3,fxe3,Qb6,Qc1,O-O-O,b3,Nb4,Qd2,e5,a3,Nc6,b4,e4,d4,Ne5,c5,Qe6,Qc2,Neg4,Bxg4,Nxg4,Qxe4,Qxe4,Nxe4,Nxe3,Kf2,Nf5,Rac1,Rxd4,Nd6+,Nxd6,cxd6+,Kd7,Rc7+,Kxd6,Rxf7,b5,Rxg7,Rf8+,Ke3,Kd5,Rxg6,Re8+,Kf3,Rd3+,Kf2,Rxa3,Rd1+,Kc4,Rg4+,Kb3,Rd3+,Ka4,Rxa3+,Kxa3,h4,Kb3,h5,Kc3,h6,Rh8,Rh4,a5,bxa5,b4,a6,b3,a7,b2,a8=Q', 'Rxa8,Rh1,Ra1', 'https://lichess.org/training/9RvQW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9rXhu', 'Blitz', 'ijlost', 1931, 'Loris_Nathoo', 1891, 'e4,c5,d4,cxd4,Nf3,Nc6,Nxd4,g6,Nxc6,bxc6,Qd4,f6,e5,Bg7,f4,fxe5,fxe5,d6,Qc3,Bxe5,Qxc6+,Bd7,Qf3,Nf6,h3,O-O,Qb3+,Kh8,Bh6,Rb8,Qc4,Bxb2,Bxf8,Qxf8,Nd2,Bxa1,Nb3,Be5,Bd3,Bg3+,Kd1,d5,Qc3,e5,Rf1,Qa3,Rf3,Bf4,g3,Rxb3,axb3,Qc1+,Ke2,Ne4,Bxe4,dxe4,Rxf4,Bb5+,Kf2', 'Qf1+,Ke3,Qe2#', 'https://lichess.org/training/9rXhu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9S29z', 'Rapid', 'Thomasnewbee', 1930, 'Kuya_Dowie', 2104, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Qe2,Qe7,d3,Nf6,Bg5,Nbd7,Nd4,a6,Nc3,h6,Nd5', 'Qxe2+,Bxe2,Nxd5', 'https://lichess.org/training/9S29z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9s5mP', 'Blitz', 'movimi', 1774, 'HuskerDu', 2219, 'e4,e6,Nf3,c5,Bc4,a6,c3,b5,Bb3,Bb7,O-O,Bxe4,d4,Qc7,dxc5,Bxc5,Nd4,Nf6,Bg5,Nc6,Re1,Bg6,Qf3,O-O,Bxf6,gxf6,h4,Nxd4,cxd4,Bxd4,h5,Bxb1,Raxb1,f5,h6,Kh8,Rbc1,Qb6,Red1,Rac8,Qg3,Rxc1,Rxc1,Rg8', 'Qxg8+,Kxg8,Rc8+,Qd8,Rxd8#', 'https://lichess.org/training/9s5mP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9s6wX', 'Classical', 'conqueror201804', 1819, 'Harmik60', 1800, 'e4,e5,Nf3,Nc6,d4,d6,dxe5,dxe5,Qxd8+,Kxd8,Nc3,Bb4,Bd2,Be6,O-O-O,Ke7,a3,Ba5,Bd3,Nf6,h3,h6,Ne2,Rhd8,Bxa5,Nxa5,Nxe5,Nd7,Nxd7,Rxd7,Bb5,c6,Rxd7+,Bxd7,Bd3,Be6,f4,Bc4,Bxc4,Nxc4,g4,Kf8,e5,Rd8,Rd1,Rxd1+,Kxd1,Nxb2+,Ke1,Nc4,a4,a5,Nc3,Ne3,Kd2,Ng2,f5,Nf4,Ke3,Nxh3,Ne4,Ng5,Nc5,b6', 'Nd7+,Ke7,Nxb6', 'https://lichess.org/training/9s6wX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9s7JB', 'Blitz', 'Paulthejust', 1738, 'Demiryeni', 1696, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,O-O,O-O,d3,d6,a3,Bg4,b4,Bd4,Bb2,a6,h3,Bh5,g4,Bg6,Nh4,Nxg4,Nxg6,hxg6,hxg4,Qh4,Qf3,b5,Bd5,Ne7,Bxa8,Rxa8,Rab1,f6,Nd5,Nc6,Bxd4', 'Nxd4,Qg3,Ne2+,Kg2,Nxg3', 'https://lichess.org/training/9s7JB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9SBlz', 'Rapid', 'sayrussk', 1807, 'bigiggye', 1856, 'e4,c6,Nc3,d5,exd5,cxd5,d4,Nc6,Be3,Bf5,Nf3,h6,Bd3,Bxd3,Qxd3,e6,Qb5,Qc7,Ne5,Nf6,Bf4,Nh5,Ng6,Nxf4,Nxf4,a6,Qb3,Nxd4,Qa4+,Nc6,Nfxd5,Qe5+,Ne3,b5,Qh4,Bb4,O-O,Bxc3,bxc3,Qxc3,Rad1,O-O,Rd7,Ne5,Rd4,Qb2,Rfd1,Qxa2,Ng4,Nxg4,Rxg4,Qxc2,Rf1,Qd2,f4,Rac8,Qxh6,Qd4+,Kh1,Rfd8,Qh3,Rc3,Qh5,Rd5,Qh4,b4,f5,Qd1,Rg1,a5,h3,Qe2,Qe7,Rc8,Qf6,Qe5', 'Rxg7+,Kh8,Qh6#', 'https://lichess.org/training/9SBlz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9SCu7', 'Rapid', 'Shirock', 1608, 'DrA1i13', 1609, 'e4,e5,Bc4,Nc6,c3,b6,d3,Bb7,Bd5,Nf6,Bg5,Be7,h4,Nxd5,exd5,Bxg5,hxg5,Ne7,c4,c6,Nc3,cxd5,f3,dxc4,dxc4,d5,Nb5,Ba6,a4,Bxb5,axb5,Nf5,Qc2,Qxg5,g4,Qe3+,Ne2,Ng3,Rh2,d4,Rd1,Rd8', 'Rd3,Qg5,Nxg3', 'https://lichess.org/training/9SCu7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9SDgf', 'Blitz', 'FM Lidiodelgado', 2424, 'ronaldoabarca', 2332, 'd4,d5,Nf3,Nf6,c4,Bg4,Ne5,Be6,e3,Nbd7,cxd5,Bxd5,Nd3,e6,Nc3,Bc4,b3,Bxd3,Bxd3,c5,O-O,cxd4,exd4,Bb4,Ne2,O-O,Bg5,h6,Bh4,Qb6,Rc1,Rac8,Bb1,Ba3,Rxc8,Rxc8,Qd3,a6,h3,Bd6,Rc1,Rxc1+,Nxc1,g5,Bg3,Bxg3,fxg3,Qd6,Ne2,Qc6,Qc4,Qxc4,bxc4,Nb6,Bd3,Kf8,Kf2,Ke7,Ke3,Kd7,g4,Nc8,Nc3,Nd6,c5,Nc8,Be4,Kc7,a4,Ne7,Kd3,Nd7,Kc4,f5,gxf5,exf5,Bf3,Nf6,d5,Ng6,Kd4,g4,hxg4,fxg4,d6+,Kc8,Bd5,Nf8,Ne4,Nxe4,Bxe4,h5,Kd5,Kd8,a5,Nd7,Bf5,Nf6+,Ke5,Nd7+,Bxd7,Kxd7,Kf6', 'h4,Ke5,h3', 'https://lichess.org/training/9SDgf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Segu', 'Blitz', 'ssy', 1937, 'peregrini77', 1803, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,Bf5,Nf3,c6,e3,Bb4,Bd3,Qd7,O-O,Ng4,a3,Ba5,b4,Bc7,e4,dxe4,Bxe4,Bxe4,Nxe4,O-O,Nc5,Qc8,h3,f6,Bd2,Nh6,Bxh6,gxh6,Qb3+,Kg7,Ne6+,Kh8,Nxf8,Qxf8,Rfe1,Nd7,Re2,Nb6,Rae1,Nd5,Qc2,Qf7,Qf5,Rg8,Re4,h5,Rh4,Qg7,g3,Bxg3,fxg3', 'Qxg3+,Kf1,Qg2#', 'https://lichess.org/training/9Segu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9ShXj', 'Blitz', 'hms2001', 1918, 'nagdingbrob', 1835, 'e4,c5,d4,cxd4,c3,d3,Bxd3,e6,f4,Nc6,Nf3,Bc5,Qe2,Qb6,b4,Nxb4,cxb4,Qxb4+,Nbd2,Nf6,Rb1,Qa5,Rb5,Qc7,Nb3,Bb6,Be3,Bxe3,Qxe3,Ng4,Qd2,a6,Rc5,Qb6,h3,d6,Rxc8+,Rxc8,hxg4,O-O,e5,dxe5,Bxh7+,Kh8,Nxe5,g5,Qd3,Rcd8,Bg8+,Kg7,Qh7+,Kf6,Bxf7', 'Qe3+,Kf1,Rd1#', 'https://lichess.org/training/9ShXj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9SIDG', 'Rapid', 'SmashBot', 1876, 'PornoActor', 2075, 'd4,Nf6,Bg5,g6,Nc3,Bg7,e4,d6,Be2,Nbd7,Qd2,c6,h3,b5,Bf3,e5,Nge2,O-O,a3,Bb7,Bh6,exd4,Nxd4,Ne5,O-O-O,a5,Bxg7,Kxg7,Be2,b4,Nb1,Nxe4,Qe3,bxa3,Nxa3,Nc5,f4,Ned7,f5,Nf6,fxg6,fxg6,Nb3,Re8,Qf3,Nxb3+,cxb3,Qb6,Rhf1,Qe3+,Qxe3,Rxe3,Rxd6,Rf8,Bc4,c5,Rf2,Ne4', 'Rd7+,Kh6,Rxf8', 'https://lichess.org/training/9SIDG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9siLe', 'Blitz', 'Ramaski', 1928, 'titaut', 1940, 'e4,e5,f4,d5,d3,Nc6,Nf3,Bg4,h3,Bxf3,Qxf3,Nd4,Qd1,dxe4,dxe4,Qh4+,g3,Qxg3+,Kd2,O-O-O,Bd3,Qxf4+,Kc3,a5,Bxf4', 'Bb4+,Kc4,b5#', 'https://lichess.org/training/9siLe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9sjqD', 'Rapid', 'Zhorik4444', 1908, 'rich321', 1912, 'e4,e6,Nc3,d5,f3,d4,Nce2,e5,d3,c5,f4,Bd6,fxe5,Bxe5,Nf3,Bc7,Bf4,Bxf4,Nxf4,Nf6,Qd2,O-O,Be2,Nc6,h3,Nd7,O-O,Nce5,Nd5,Nxf3+,Rxf3,Ne5,Rg3,Qh4,Qg5,Qxg5,Rxg5,Ng6,Nc7,Rb8,Rxc5,Be6,Nxe6,fxe6,Bg4,e5,Bf5,Ne7,Be6+,Kh8,Rxe5,Ng6,Rf5,Rbe8,Bf7,Rc8,Bxg6,hxg6,Rxf8+,Rxf8,Rc1,b5,c4,bxc4,Rxc4,Rd8,Rc7,Rb8,b3,a6,Rd7,Rb4,Rd6,a5,Rxg6,a4,Rd6,axb3,axb3,Kg8,Kf2,Kf7,Kf3,Ke7,Rd5,Ke6,Kf4,Rxb3,Rxd4,Rb2,g4,Rh2,Kg3,Rd2,Rd5,Rd1,Kh4,Kf6,Kh5,Rh1,h4', 'g6+,Kh6,Rxh4+,Rh5,gxh5', 'https://lichess.org/training/9sjqD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9snT4', 'Blitz', 'Majid53', 1904, 'bingopeeyush', 1880, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,d6,O-O,Bd7,c3,Be7,Re1,O-O,Nbd2,Re8,Nf1,Bf8,Bc2,Qc8,Ng3,Bg4,h3,Bd7,Nh4,d5,Nhf5,dxe4,dxe4,Ne7,Bg5,Nxf5,Nxf5,Nxe4,Nxg7,Nxg5,Nxe8,Qxe8,Qh5,f6,Qh4,Qf7,Rad1,Qg7,Kh1,Bc6,f3,Nxf3,gxf3', 'Bxf3+,Kh2,Qg2#', 'https://lichess.org/training/9snT4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Soal', 'Classical', 'tadedischen', 1903, 'Mustafa_Magdy', 1860, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nf6,Nc3,Bg4,Be2,Bxe2,Qxe2,Qxd4,Qb5+,Nc6', 'Qxb7,Rb8,Qxc6+', 'https://lichess.org/training/9Soal');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9SorT', 'Rapid', 'zoran86', 1934, 'vexch', 1946, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nd4,O-O,b5,Bb3,a5,a4,Nxb3,cxb3,b4,Qf3,Bg4,Qg3,Qxd5,d4,Bd6,dxe5,Qxe5,Qxe5+,Bxe5,Re1,O-O-O,Nxf7,Rhf8,Nxd8,Rxd8,Nd2,Bxb2,Bxb2,Rxd2,Bxf6,gxf6,Re3,Bd7,Rc1,h5,h4,Rd4,g3,f5,Re7,f4,Kf1,fxg3,fxg3,Rd3,Re5,Rxb3,Rxa5,Rxg3,Rxh5,Bxa4,Rhc5,c6,h5,Rh3,Rxc6+,Bxc6,Rxc6+,Kb7,Rh6,b3,Rh7+,Kb6,Rh8,Kc5,Rb8', 'Kc4,h6,Rxh6', 'https://lichess.org/training/9SorT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9SOW5', 'Blitz', 'erman28', 1758, 'Slava1974', 1721, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qe3,e5,Nf3,Nf6,h3,a6,Nc3,Nb4,Bd3,b6,a3,Bc5,Qe2,Nc6,Bg5,h6,Bh4,g5,Bg3,d6,O-O,O-O,Nd5,b5,Nxf6+,Qxf6,b4,Bb6,c4,bxc4,Bxc4,Nd4,Nxd4,Bxd4,Rad1,Bb7,h4,Qg6,hxg5,Qxg5,Qf3,Kg7,Rd3,f5,Bd5,Bxd5,exd5,e4,Qf4,Qxf4,Bxf4,exd3,Bxd6,Rfd8,Bf4,Rxd5,Bd2,Re8,Rc1,Re2,Rc7+,Kg6,Rc6+,Kh5,Rxh6+,Kg4,Rg6+,Kh5,Rg5+,Kh4', 'g3+,Kh3,Rh5+,Kg4,Rh4+,Kf3,Rf4#', 'https://lichess.org/training/9SOW5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9sPvD', 'Rapid', 'vafa1331', 1876, 'HerrSchnitzel', 1886, 'e4,e5,d4,exd4,c3,dxc3,Bc4,Nc6,Nxc3,Bb4,Bd2,Nf6,Nf3,O-O,e5,Re8,O-O,Nxe5,Nxe5,Rxe5,Qb3,d5,Bd3,Bxc3,Bxc3,d4,Bd2,c5,Rae1,Rxe1,Rxe1,Be6,Qc2,b6,Bg5,h6,Bxf6,Qxf6,b3,Bd5,f3,Qg5,Qe2,Bc6,a4,g6,Bc4,Re8,Qxe8+,Bxe8,Rxe8+,Kg7,Ra8,Qc1+,Kf2,Qc2+,Kg3,Qf5,Rxa7,d3,Rxf7+,Qxf7,Bxf7,Kxf7', 'Kf2,d2,Ke2', 'https://lichess.org/training/9sPvD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9srF6', 'Rapid', 'Mohamed_Mowafy', 1879, 'SitoLinggau', 1871, 'e4,c5,Nf3,d6,c3,e6,Bb5+,Nd7,O-O,a6,Ba4,b5,Bc2,Ngf6,d4,cxd4,cxd4,Be7,d5,e5,Nc3,O-O,Nh4,Nc5,Nf5,Bxf5,exf5,Qc7,a3,Rac8,Bg5,Ncd7,Qf3,h6,Bd2,Qc4,h3,Nb6,Bd3,Qb3,Qg3,Kh7,Rab1,Nbxd5,Nxd5,Qxd5,Rfd1,Qb3,Bc3,Rxc3,bxc3,Qxc3,Qe3,e4,Bxe4', 'Qxe3,fxe3,Nxe4', 'https://lichess.org/training/9srF6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Stwf', 'Rapid', 'abdo72', 1890, 'tice-k', 1949, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Be3,Qc7,Nc3,Bb4,Qd2,Nf6,f3,d5,a3,Bxc3,bxc3,dxe4,Bg5,exf3,Bxf6,fxg2,Bxg2,gxf6,O-O,Rg8,Rxf6,b5,Kf1,Qxh2', 'Bc6+,Nxc6,Qxh2', 'https://lichess.org/training/9Stwf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Su4c', 'Rapid', 'jipavl', 1875, '2700172', 1813, 'd4,f5,Nf3,e6,g3,d5,Bg2,Bd6,O-O,Nd7,b3,Ngf6,Bb2,Ne4,Qd3,Qf6,c4,c6,e3,O-O,Ba3,Qe7,Bxd6,Qxd6,cxd5,exd5,Nbd2,g6,Rac1,Kg7,Ne1,Ndf6,Nb1,Bd7,a3,Rae8,b4,a6,Nd2,Bc8,Nb3,Ng5,Nc5,Nfe4,Nxe4,fxe4,Qe2,Be6,h4,Nf7,Nc2,Nh6,Na1,Bg4,Qc2,Bf3,Bh3,Ng4,Nb3,h5,Nc5,Re7,Qb2,Kh6,a4,g5,hxg5+,Kxg5,b5,axb5,axb5,h4,bxc6,bxc6,Qb4,hxg3', 'Nxe4+,Rxe4,Qxd6', 'https://lichess.org/training/9Su4c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Sv9i', 'Blitz', 'luismr15', 2162, 'mireslash', 1899, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,c3,a6,a4,d6,Nbd2,O-O,O-O,Be6,Re1,Ba7,a5,h6,Ba2,Ng4,Re2,Bxa2,Rxa2,f5,h3,Nf6,Qb3+,Kh8,Qxb7,Qd7,Qb3,fxe4,dxe4,Nh5,Nf1,Rab8,Qc2,Rxf3,gxf3,Qxh3,Be3,Bxe3,fxe3,Qxf3,Rg2,Rf8,Qe2,Qh3,b4,Ne7,Rh2,Rxf1+,Qxf1,Qg4+,Rag2,Ng3,Qf8+,Kh7,Qf2', 'Qd1+,Qe1,Qxe1#', 'https://lichess.org/training/9Sv9i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9SZZR', 'Blitz', 'CoringAS-96', 1924, 'Nanotechnik', 1910, 'e4,c6,d4,d5,f3,e5,dxe5,Bc5,Qe2,Qb6,Nh3,Bxh3,gxh3,dxe4,fxe4,Nd7,Nc3,Nxe5,Bf4,Bd4,O-O-O,Nf6,Na4,Qb4,c3,Qxa4,cxd4,Ned7,e5,Nd5,Bg5,Qxa2,Qg4,h6,Bh4,N7b6,Qxg7,Qa1+,Kc2,Ne3+,Kd2,Nbc4+,Bxc4,Nxc4+,Kd3,Qxb2,Qxh8+,Kd7,Qxa8,Qb3+,Ke4', 'Qe3+,Kf5,Qf3#', 'https://lichess.org/training/9SZZR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9t4rr', 'Classical', 'Wesdrasb', 1646, 'HijackHigh', 1627, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,Nbd2,O-O,O-O,d6,c3,a5,Re1,Qe7,h3,Be6,Bb3,a4,Bc2,b5,Nf1,Nb8,Ng3,Nbd7,Nh2,c6,Qf3,d5,Ng4,dxe4,dxe4,Nxg4,hxg4,Nf6,Nf5,Qd8,g5,g6,Nh6+,Kg7,Rd1,Nd7,g3,f6,Nf5+,gxf5,gxf6+,Rxf6,exf5,Bd5,Qg4+,Kf7,Bg5,Qg8,Qh5+,Ke7,Bxf6+,Nxf6,Qh4,Qg7,Rxd5,cxd5,Rd1,Kd6,Kg2,Rg8,Qh1,Ng4,Kf1,Nxf2', 'Qxd5+,Kc7,Qxc5+', 'https://lichess.org/training/9t4rr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9T7J2', 'Rapid', 'bretb11', 1600, 'evgen18', 1622, 'd4,Nf6,c4,d5,e3,c6,Nc3,h6,Nf3,e6,cxd5,cxd5,Bd3,Bb4,Bd2,Bxc3,bxc3,O-O,O-O,Nbd7,c4,dxc4,Bxc4,a6,Bb4,Re8,Qd3,b5,Bb3,Bb7,Nd2,Bd5,Bc2,Nb6,Rfc1,Nc4,e4,Nxd2,Bxd2,Bxe4,Qg3,Bg6,Bxg6,fxg6,Qxg6,Qxd4,Bxh6,Qg4,Qxg4,Nxg4,Bg5,Ne5,f4,Nc4,Rc3,e5,f5,Nd6,Rf3,e4,Rff1,Nf7,Bf4,e3,Rae1,e2,Rf2,Rac8,Rfxe2,Rxe2,Rxe2,Rc5,g4,Rc4,Rf2,Nh6,h3,Kf7,Kg2,Ng8,g5,Ne7,Be5,g6,fxg6+,Kxg6,Bf6,Nf5,Kf3,Nh4+,Ke3,Nf5+,Kd3,Rh4,Rf3,a5,a3,a4,Kc3,Rc4+,Kd3,Nh4,Re3,Nf5,Re4,Rc1,Rb4,Rd1+,Ke2,Rd5,Kf3,Rd3+,Ke4,Rxh3,Rxb5', 'Nd6+,Kd4,Nxb5+', 'https://lichess.org/training/9T7J2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Ta7I', 'Classical', 'prajata', 1878, 'Samiam88', 2142, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,e6,Be3,Be7,Qd2,O-O,O-O-O,b5,g4,b4,Nce2,a5,g5,Nfd7,h4,Bb7,h5,Nc6,g6,Nxd4,Nxd4,Ne5,gxf7+,Rxf7,Nxe6,Qc8,Nd4,Nxf3,Nxf3,Rxf3,Bg2,Bxe4,h6,Rxe3', 'Bxe4,Rxe4,Qd5+', 'https://lichess.org/training/9Ta7I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Tdwn', 'Rapid', 'Bodo20', 1695, 'Superman09', 1932, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,e3,Be7,Bd3,dxc4,Bxc4,b5,Bd3,a6,O-O,Nbd7,e4,c5,e5,Nd5,Nxd5,exd5,Bf4,c4,Bc2,O-O,a4,Bb7,axb5,axb5,Qe2,Qb6,Qe3,b4,Bg5,Bxg5,Nxg5,h6,Nf3,b3,Bf5,Bc6,g4,Rfe8,g5,h5,g6,fxg6,Bxg6,Rf8,Qg5,Rxf3,Rxa8+,Bxa8,Qxh5,Rf4,Qh7+,Kf8', 'Qh8+,Ke7,Qe8#', 'https://lichess.org/training/9Tdwn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Tej5', 'Rapid', 'yzaferk', 2074, 'PMJamon', 2153, 'e4,c6,d4,d5,exd5,cxd5,Bd3,g6,h3,Bg7,c3,Nf6,Nf3,Nc6,O-O,Bd7,Be3,Qc7,Nbd2,e6,Re1,Rc8,Rc1,a6,Nf1,Nh5,a3,b5,Qd2,Na5,Qd1,Nc4,Bxc4,bxc4,Qd2,Rb8,g4,Nf6,Ng3,Qb6,Rb1,O-O,Ne5,Ba4,Bh6,Qd6,Bxg7,Kxg7,Re2,Nd7,Nxd7,Bxd7,Qg5,f6,Nh5+,Kh8,Nxf6,Qe7,Nxh7,Qxh7,h4,Rf7', 'Qe5+,Kg8,Qxb8+', 'https://lichess.org/training/9Tej5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9tf1a', 'Classical', 'Andredesouza', 1717, 'avi980', 1600, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,Bc4,Bg4,O-O,e6,d4,Qh5,Bf4,Bd6,Bb5+,Nc6,Bxc6+,bxc6,Be5,Bxe5,dxe5,Nd5,h3,Bf5,g4,Qxh3,gxf5,Nf4,Ne1,Qxf5,Qf3,h5,Ng2', 'Nh3+,Qxh3,Qxh3', 'https://lichess.org/training/9tf1a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9TfWL', 'Classical', 'husoxorto', 1774, 'ares-nike', 1727, 'e4,c5,Nf3,g6,Nc3,Bg7,b3,d6,Bb2,Nc6,Bb5,Nf6,Nd5,a6,Bxc6+,bxc6,Nxf6+,Bxf6,Bxf6,exf6,h3,O-O,O-O,d5,d3,f5,Re1,fxe4,dxe4,d4,Ne5,Qd6,f4,f6,Nd3,Bd7,Qf3,Rae8,Re2,g5,Rae1,Re7,Qg3,Rg7,e5,fxe5,Rxe5,gxf4,Qh4,f3,Rg5,Rf7,Rxg7+,Kxg7,Qg5+,Kh8,Qe5+,Qxe5,Rxe5,fxg2,Kxg2,Rg7+,Kh2,Rf7,Rxc5,Rf3,Ne5,Rxh3+,Kg2,Be6,Nf7+,Kg7,Ng5,Re3,Rxc6', 'Bd5+,Kf2,Bxc6', 'https://lichess.org/training/9TfWL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9tjG9', 'Rapid', 'PlafonGundhi', 1711, 'burzum4ever', 1698, 'e4,c5,c3,a6,d4,cxd4,cxd4,d5,Bd3,dxe4,Bxe4,Nf6,Nc3,e6,Nf3,Bb4', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/9tjG9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9tkqR', 'Rapid', 'stevehayman', 1694, 'usergii', 1612, 'd4,d5,c4,dxc4,Nf3,Bg4,e4,b5,a4,c6,axb5,cxb5,Nc3,a6,Nxb5,Nd7,Nc3,Ndf6,Be3,Qc8,Qa4+,Bd7,Qxc4,Bb5,Qxc8+,Rxc8,Bxb5+,axb5,e5,b4,Ne2,Ne4,O-O,e6,Bd2,Nxd2,Nxd2,Nh6,Rfc1,Rb8,h3,Be7,Rc7,Nf5,Raa7,O-O,g4,Bd8,Rc4,Nh4,Nc1,Re8,Nd3,Be7,Nc5,Ng6,Ra4,Bxc5,Rxc5,Nf4,Kh2,Nd3,Rc2,Nxf2,Kg2,Nd3,Rc4', 'Nxb2,Raxb4,Nxc4', 'https://lichess.org/training/9tkqR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Tldb', 'Classical', 'delioff', 1774, 'ViTert', 1715, 'e4,c5,Bc4,e5,Nf3,Nc6,O-O,Nf6,d3,d5,exd5,Nxd5,Re1,f6,Bd2,Be6,Nc3,Qd7,Ne4,a6,Nxc5,Bxc5,Bb3,Nd4,Nxd4,Bxd4,c4,Nb6,Ba5,Qd6,Qh5+,g6,Qh4,O-O,c5,Qxc5,Bxe6+,Kg7,b4,Qc6,Rac1,Qxe6,Rc7+,Rf7,Rec1,Nd5,Rxf7+,Qxf7,b5,b6,Bd2,axb5,Qh6+,Kg8,a3,Ne7,Rc7,Bc5,h4,Bxa3,h5,g5,Bxg5,fxg5,Qxg5+,Qg7,Qe3,Bd6,Rd7,Bc5,Qe4,Ra1+,Kh2,Bxf2,Rd8+,Kf7,Qf3+,Qf6', 'Rf8+,Kxf8,Qxf6+,Ke8,Qxf2', 'https://lichess.org/training/9Tldb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9tn6x', 'Rapid', 'Abundance-of-pieces', 2263, 'Genialny_zolw', 2208, 'd4,Nf6,Bf4,c5,e3,cxd4,exd4,g6,Nc3,Bg7,Qd2,O-O,O-O-O,d5,Bh6,Nc6,Bxg7,Kxg7,f3,h5,h4,Bf5,Bd3,Nxd4,Bxf5,Nxf5,g4,hxg4,h5,d4,Ne4,Ne3,hxg6,Rc8,c3,Nxe4,fxe4,Kxg6,Ne2,e5,Ng3,Rh8,Rxh8,Qxh8,Rh1,Qf6,Qh2,Qg5,Qh7+,Kf6,Rh6+,Ke7,Kb1,dxc3,bxc3,Rc6,Rh5,Qg6,Rxe5+,Kd6,Qh8,Kc7', 'Re7+,Kb6,Qd4+', 'https://lichess.org/training/9tn6x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9tnnL', 'Blitz', 'nordwolf', 1721, 'Alx1958', 1726, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bb5+,Bd7,Bxd7+,Nbxd7,Nc3,g6,h4,Bg7,g4,Qa5,Bd2,Qb6,Nb3,Rc8,h5,gxh5,gxh5,Rg8,Qf3,Ne5,Qf5,e6,Qh3,Nc4,O-O-O,Nxd2,Rxd2,Bh6,Qd3,Bxd2+,Qxd2,Rxc3,Qxc3,Nxe4,Qc8+,Qd8,Qxb7,Qg5+,Kb1,Qg1+,Rxg1', 'Rxg1+,Nc1,Nd2+,Ka1,Rxc1#', 'https://lichess.org/training/9tnnL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9tozB', 'Blitz', 'himster007', 1992, 'MashigoSN', 1994, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Bd2,Qc7,Nf3,Bg4,Be2,e6,Be3,Nf6,h3,Bh5,O-O,h6,Ne5,Bxe2,Qxe2,Be7,Bf4,Bd6,Qf3,Nbd7,Qg3,Nh5,Qg4,Nxf4,Qxf4,Nxe5,dxe5,Bxe5,Qg4,O-O,f4,Bxc3,bxc3,Rad8,f5,exf5,Rxf5,Rd2,Raf1,Rd7,Rh5,Kh7,Qe4+,Kh8,Rf6,Rd1+,Kf2,Rd2+,Ke1,Rxg2,Rfxh6+,gxh6', 'Rxh6+,Kg7,Qh7#', 'https://lichess.org/training/9tozB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9tq6H', 'Blitz', 'glitzerpony', 1736, 'csrrvr', 1755, 'd4,Nf6,c4,g6,Nc3,d5,Bf4,Bg7,e3,c5,Nf3,O-O,Be2,Nc6,cxd5,Nxd5,Nxd5,Qxd5,dxc5,Qxd1+,Rxd1,Bxb2,O-O,Ba3,Ne5,Nxe5,Bxe5,Bxc5,Bf3,f6,Bg3,e5,Rb1,Rb8,Rfc1,Bb6,Bd5+,Kg7,f4,Bxe3+,Kh1,Bxc1,fxe5,f5,e6,Bg5,Bxb8,Bxe6,Rxb7+,Kf6,Bxe6,Kxe6,Bxa7,Rc8,Kg1,Rc1+,Kf2,Rc2+,Kf3,h6,a3,Ra2,Bc5,Bc1,Rb3,Kf6,h3,g5,g3,h5,Bd4+,Ke6,Bc5', 'g4+,hxg4,hxg4#', 'https://lichess.org/training/9tq6H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9TqXp', 'Classical', 'Schetskanov', 1937, 'Palundr4', 1961, 'd4,g6,c4,Bg7,e4,c6,f4,d5,cxd5,cxd5,e5,Nc6,Nf3,Bg4,Be2,e6,O-O,Nge7,Nc3,Nf5,Qb3,O-O,Qxb7,Ncxd4', 'Nxd4,Nxd4,Bxg4', 'https://lichess.org/training/9TqXp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9tTH9', 'Rapid', 'SuhasChintala', 1992, 'shinee62', 1972, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,f3,O-O,Qd2,Nc6,Bc4,Bd7,O-O-O,Na5,Be2,Rb8,Kb1,b5,Ndxb5,a6,Nd4,Qc7,Bg5,h6,Bxf6,Qb7,Nb3,Nxb3,axb3,Bxf6,Nd5,Kg7,Nxf6,exf6,h4,h5,g4,Be6,gxh5,Bxb3,h6+,Kh7,cxb3,Qxb3,h5,g5,f4,Rg8,Qd4,Qg3,Qxf6,Qxf4,Rxd6,Qxf6,Rxf6,g4,Rg1,g3,e5,Rg5,Bd3+,Kg8,e6,fxe6,Rxe6,Kh8,Bg6,a5,Rge1,Rg8,Re8,Rf5,Rxg8+,Kxg8,Re8+,Rf8,Rxf8+,Kxf8,Ka2', 'g2,h7,Kg7', 'https://lichess.org/training/9tTH9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9tvsT', 'Rapid', 'drtanke', 1841, 'AntonioGuiMat', 1906, 'e4,g6,f4,Bg7,Nf3,d6,d4,c5,Bc4,cxd4,Nxd4,e6,O-O,a6,c3,b5,Bb3,Bb7,Bxe6,fxe6,Nxe6,Qe7,f5,Bxe4,Nxg7+,Qxg7,Qxd6,Qd7', 'Qe5+,Qe7,Qxh8', 'https://lichess.org/training/9tvsT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Tw93', 'Blitz', 'arvindkvt', 1996, 'hippieknight', 1925, 'e4,c5,Nf3,Nc6,d3,d6,c4,e6,Nc3,Bd7,Be2,Qc7,O-O,Nd4,Be3,e5,Nd5,Qb8,Bxd4,cxd4,b4,Ne7,a4,Nxd5,exd5,Be7,Qb3,O-O,Rfc1,Kh8,Nd2,Qc8,Ne4,Bf5,c5,Bxe4,cxd6,Qf5,dxe7,Rfe8,dxe4,Qxe4,Bf3,Qf4,d6,e4,Bd1,Qxd6,Qxf7,Rxe7,Qh5,d3,Rc5,Rf8,Bg4,Qd4,Rf1,d2,Bf5', 'g6,Qh6,Kg8,Bg4,Ref7', 'https://lichess.org/training/9Tw93');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9tWEV', 'Rapid', 'adam1920', 2017, 'uncleg', 2148, 'Nf3,c5,c4,Nc6,Nc3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,d3,d5,cxd5,Nxd5,Bd2,e5,Nxd5,Qxd5,Bc3,Qd6,Ng5,h6,Ne4,Qe7,Rc1,f5,Nd2,Kh7,Bxc6,bxc6,Nc4,f4,Nd2,Bh3,Re1,Rad8,Qa4,fxg3,hxg3,Qe6,Qh4,Bf6,Qa4,Bg5,Qxa7+,Rf7,Qxc5,Rdf8,f3,Rf5,Qc4,Qxc4,dxc4', 'Be3+,Kh2,Rh5', 'https://lichess.org/training/9tWEV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9twXc', 'Blitz', 'Silverbyte', 1847, 'asblueasneptune', 1836, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,O-O,d6,c3,Bg4,Be3,O-O,Nbd2,h6,Bb3,a5,Bxc5,dxc5,Nc4,a4,Bc2,b5,Ne3,Bh5,h3,Re8,Kh2,Nh7,g4,Bg6,Rg1,Ng5,Nh4,Bh7,Qe2,Ne6,Nhg2,Qg5,h4,Qf6,Nd5,Qd8,Raf1,Ne7,Nde3,Ng6,f4,Nexf4,Nxf4,Nxf4,Qf2,Rf8,g5,hxg5,Rxg5,f6,Rg3,c6,Rfg1,Ra7,Ng4,Bg6,Qxc5,f5,Nxe5', 'Qxh4+,Rh3,Qxh3#', 'https://lichess.org/training/9twXc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9TZQX', 'Rapid', 'culladaniel', 1857, 'terra01', 2110, 'd4,Nf6,c4,c5,Nc3,cxd4,Qxd4,Nc6,Qd1,g6,Nf3,Bg7,e4,d6,Bd3,O-O,O-O,Bg4,h3,Bxf3,Qxf3,Ne5,Qe2,Nxd3,Qxd3,Nd7,f4,Nc5,Qe2,Rc8,Be3,Qa5,Nd5,Qd8,Bxc5,Rxc5,b4,Rc8,Rad1,e6,Ne3,Qb6,c5,dxc5,bxc5,Qxc5,Kh1,Qb4,Nc2,Qb2,Rc1,Qxa2,f5,exf5,exf5,Rfe8,Qd3,Bh6,fxg6,hxg6,Nb4,Qe6,Rxc8,Rxc8,Nd5,Bg7,Nf4,Qc4,Qf3,b5,Nd5,Re8', 'Qxf7+,Kh7,Nf6+', 'https://lichess.org/training/9TZQX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9U266', 'Blitz', 'ARipacandida', 1787, 'Oussattaque', 1761, 'd4,Nf6,Nf3,c5,g3,cxd4,Nxd4,e5,Nb3,d5,Bg2,Be6,O-O,Bd6,c4,Bc7,cxd5,Bxd5,Nc3,Bxg2,Kxg2,O-O,Bg5,Nc6,Nc5,b6,Nd3,h6,Bxf6,Qxf6,Nd5,Qd6,e4,Rac8,Rc1,Bb8,Qa4,Nd4,Qa6,Rxc1,Rxc1,f5,Rc8,fxe4,Rxf8+,Qxf8,N3b4,Qf3+,Kh3,Bd6,Qc8+,Kh7,Nc6,Qh5+,Kg2,Nf3,h4,Ne1+,Kf1,Nd3,Nce7,Qd1+,Kg2,Qf3+,Kh3,Nxf2+,Kh2,Ng4+,Kh3,Nf2+,Kh2,Ng4+,Kh3,Nf6', 'Nxf6+,Qxf6,Qg8#', 'https://lichess.org/training/9U266');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9u3xW', 'Rapid', 'playforJesus', 1872, 'Lukas_Hutter', 1861, 'd4,d6,Nf3,g6,g3,Bg7,Bg2,Nc6,O-O,Bf5,c3,e5,dxe5,Bxe5,Nxe5,dxe5,Bxc6+,bxc6,Qa4,Ne7,e4,Bh3,Rd1,Qc8,Bg5', 'Qg4,Nd2,Qxg5', 'https://lichess.org/training/9u3xW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9U4qP', 'Rapid', 'Gabrieldomal', 1843, 'Ikirik1988', 1841, 'e4,c5,Nf3,b6,Nc3,Bb7,a3,a6,d4,c4,Bxc4,b5,Ba2,e6,Bf4,b4,axb4,Bxb4,e5,f6,O-O,f5,Ne2,Ne7,c3,Ba5,b4,Bb6,c4,Bxf3,gxf3,Ng6,Qd2,Qh4,Bg5,Qh3,Ng3,O-O,c5,h6,Be7,Bd8,Bxd8,Rxd8,Kh1', 'Nh4,Rg1,Nxf3', 'https://lichess.org/training/9U4qP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9U4ts', 'Blitz', 'peggiodimenessuno', 1521, 'ejq', 1511, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Be2,e6,Nc3,Nf6,Bg5,Bd6,O-O,Nbd7,h3,Bh5,Qd3,Bb8,Rfe1,Qc7,Ne5,Nxe5,dxe5,Qxe5,Bxf6', 'Qh2+,Kf1,Qh1#', 'https://lichess.org/training/9U4ts');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9U71q', 'Rapid', 'jasnob', 1774, 'nastysteve', 1773, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Nc3,Nf6,Bd3,e5,Nb3,Nc6,O-O,b5,Be3,Be6,f4,d5,exd5,Nxd5,Nxd5,Bxd5,f5,Bd6,f6,gxf6,Bh6,Rg8,Bxh7,Rxg2+,Kh1,Rd2+,Kg1,Qb6+,Rf2,Rxd1+,Rxd1,Bxb3,Rxd6,Be6,Be4,Rc8,Kg2,Ke7,Rfd2,f5,Bf3,Rg8+,Kh3,f4+,Kh4,Qg1,Rxc6,Rg4+,Kh5,f6', 'Rc7+,Ke8,Bc6+', 'https://lichess.org/training/9U71q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9u9cc', 'Rapid', 'Winthrop1620', 1812, 'KENIOMENEZES', 1843, 'd4,d5,Bf4,Bf5,e3,e6,c3,c5,Bd3,Bg6,Nf3,a6,Ne5,Nd7,Nxg6,hxg6,Nd2,cxd4,exd4,Ngf6,Nf3,Nb6,Ne5,Bd6,Qb3,Qc7,O-O,Rc8,a4,Nh5,Be3,Nc4,Bxc4,Bxe5,dxe5,Qxc4,Qxc4,Rxc4,Bb6,O-O,a5,Nf4,Rfe1,Nd3,Re2,Re8,f3,f6,exf6,gxf6,Rd2,Ne5,Rd4,Rxd4,Bxd4,Nd7,b4,e5,Re1,Kf7,Bf2,f5,g3,e4,fxe4,dxe4,Bd4,Ne5,Bxe5,Rxe5,Re3,Rd5,Kg2,Ke6,Kh3,g5,Kg2,Rd3,Kf2,Kd5,Ke2,Kc4,g4,Rxe3+,Kxe3,f4+,Kxe4,Kxc3,h4,gxh4,g5,h3,Kf3,Kxb4', 'g6,h2,Kg2', 'https://lichess.org/training/9u9cc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9uaCJ', 'Rapid', 'ack002', 2239, 'Schacher100', 2347, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Nf6,d4,Bf5,Bc4,e6,O-O,c6,Re1,Be7,Bg5,Nbd7,Qe2,Nb6,Bb3,h6,Bh4,Nfd5,Ne4,Qf4,Bg3,Qxe4,Qxe4,Bxe4,Rxe4,O-O,Rae1,a5,c4,Nf6,R4e2,Rac8,c5,Nbd5,Ne5,Rfd8,Bc2,Nb4,Bb1,Rxd4,a3,Na6,Rc1,Nxc5,f3,Nb3,Rce1,Rcd8,Bf2,Rd1,Bc2,Rxe1+,Rxe1,Nd4,Bb1,Bc5,Nd3,Ba7,b4,axb4,Nxb4,Ne2+,Rxe2,Rd1+,Re1', 'Rxe1#', 'https://lichess.org/training/9uaCJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9UAt9', 'Rapid', 'Danlord', 1736, 'Ay41', 1793, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,d6,Nc3,Bd7,Bg5,h6,Bh4,g5,Bg3,Nh5,Nxe5,dxe5,Qxh5,Nd4,Bxd7+,Qxd7,O-O-O,Bb4,Bxe5,Rh7,Bxd4,Qxd4,Qf3,Bxc3,bxc3,Qxc3,Qf5,Rh8,Qb5+,c6,Qxb7,Rd8,Qb3,Qa1+,Kd2,Qf6,f3,Qf4+,Ke2,g4,Qc3,gxf3+,gxf3,Rg8,Rhg1', 'Qxh2+,Ke3,Rxg1', 'https://lichess.org/training/9UAt9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9uC6t', 'Blitz', 'donerizo', 1977, 'Joevick', 1918, 'e4,e6,d3,c5,Nd2,Nc6,g3,Nf6,Ngf3,Qc7,Bg2,b6,O-O,Bb7,Re1,e5,Nf1,d6,Ne3,Nd4,c3,Nxf3+,Bxf3,O-O-O,a4,a6,Bd2,g6,b4,Nh5,Nd5,Bxd5,exd5,Nf6,bxc5,dxc5,c4,Bd6,a5,b5,cxb5,axb5,a6,Qa7,Qb3,b4,Rec1,Rhe8,Qxb4,Re7,Bg5,Rc7,Qb5,Be7,d6,Rxd6,Bb7+,Kd8,Re1,h5,Rxe5,Rb6,Qc4,Rbxb7,Bxf6,Bxf6,Rd5+,Ke8,Re1+,Re7,Qa4+,Kf8,Rxe7,Bxe7', 'axb7,Qxa4,b8=Q+', 'https://lichess.org/training/9uC6t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9uGeI', 'Blitz', 'rfesen', 1858, 'noelebuk', 1815, 'd4,Nf6,Bf4,d6,e3,b6,Nf3,Bb7,Bd3,Nbd7,Nbd2,e6,c3,Be7,Qc2,O-O,h4,h6,g4,Nxg4,Rg1,Ngf6,Bxh6,Nh5,Bg5,f6,Bf4,Nxf4,exf4,f5,Rg2,Bxh4,O-O-O,Bf6,Rdg1,Kf7,Ng5+,Bxg5,fxg5,g6,Rh2,Rh8,Rxh8,Qxh8,Nf1,Qh4,Ne3,Rh8,Nxf5,gxf5,Bxf5,exf5,Qxf5+,Ke7,Re1+,Kd8,Qf7,Rf8', 'Qe7+,Kc8,Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/9uGeI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9UGlz', 'Blitz', 'k-a-p-s-1', 1869, 'salah-fes', 1893, 'e4,g6,d4,Bg7,Nc3,c6,Nf3,d6,Be3,Bg4,Be2,Nd7,O-O,Ngf6,e5,dxe5,Nxe5,Bxe2,Qxe2,Nxe5,dxe5,Nd5,Nxd5,cxd5,f4,O-O,Rad1,a6,a3,e6,c3,Qc7,Bd4,Rac8,g4,b5,f5,Rfe8,f6,Bh6,Rd3,Qc4,Qd1,a5,Rh3,Bg5,Qf3,Qb3,Rf2,Rc4,Be3,Bxe3,Qxe3,Rxg4+,Rg2,Qd1+,Kf2,Re4,Rxg6+,hxg6', 'Rh8+,Kxh8,Qh6+,Kg8,Qg7#', 'https://lichess.org/training/9UGlz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Ukiq', 'Rapid', 'Wade7777777', 1854, 'Ruddy974', 1841, 'c4,e5,e3,d5,cxd5,Qxd5,Nc3,Qd8,d4,exd4,exd4,Nf6,Nf3,Bb4,Bd3,O-O,O-O,Nc6,Bg5,Bg4,Be4,Bxf3,Bxf6,Qxf6,Qxf3,Qxf3,Bxf3,Nxd4,Bxb7,Rab8,Ba6,Rfe8,Nd5,Bd6,b3,Re5,Bc4,c6,Ne3,h5,Rad1,c5,Rd2,Be7,Nd5,Rd8,Nxe7+,Rxe7,f4,Ne2+', 'Rxe2,Rxe2,Bxe2', 'https://lichess.org/training/9Ukiq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9UmlI', 'Rapid', 'champ27', 1637, 'Azab7', 1608, 'e4,d6,Nf3,e5,Bc4,Ne7,Ng5,d5,exd5,Nxd5,Qf3,Qxg5,Bxd5,Qg6,Bxb7,Qxc2,O-O,Bxb7,Qxb7,Qc6,Qc8+,Ke7,Re1', 'Nd7,Qxa8,Qxa8', 'https://lichess.org/training/9UmlI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9uMr4', 'Blitz', 'nabilorov', 1703, 'weneedweed', 1778, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nc6,Bc4,Nxd4,Bxd4,Bxd4,Qxd4,Nf6,O-O,O-O,Rad1,Be6,Bxe6,fxe6,e5,dxe5,Qxe5,Qb6,Rfe1,Ng4,Qxe6+,Qxe6,Rxe6,Nxf2,Rd7,Ng4,Rexe7,Nf6,Rxb7,Rad8,h4,Nh5,Rxh7,Rf4,Rxa7,Rd2,Rhb7,Rd8,Ra4,Rf6,g4,Ng3,Kg2,Nf1,Raa7,Ne3+,Kg1', 'Rf1+,Kh2,Rd2+,Ne2,Rxe2+,Kg3,Rg2+,Kh3,Rf3#', 'https://lichess.org/training/9uMr4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9UNaU', 'Rapid', 'a12bc3', 1665, 'Damiboy', 1674, 'e4,c5,Nf3,e6,d4,a6,d5,Be7,c4,Qb6,Be2,Nf6,e5,Ne4,d6,Qb4+,Kf1,Bd8,a3,Qb6,Bd3,Nf6,exf6,Bxf6,Qc2,Nc6,Ra2,Ne5,Nxe5,Bxe5,g3,Qxd6,Kg2,b6,f4,Bd4,Nc3,Rb8,Rf1,f5,Re1,Bb7+,Kh3,g6,Be3,Qf8,Bxd4', 'Qh6#', 'https://lichess.org/training/9UNaU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Uo9V', 'Rapid', 'aubrey', 1671, 'diemerson1987', 1620, 'e4,c5,Nf3,d6,d4,Nc6,Bb5,a6,Bxc6+,bxc6,dxc5,Qa5+,Nc3,Qxc5,O-O,Nf6,Be3,Qb4,Rb1,g6,a3,Qb7,e5,dxe5,Nxe5,Bg7,Qf3,O-O,Nxc6', 'Bg4,Nxe7+,Qxe7', 'https://lichess.org/training/9Uo9V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9UR2h', 'Rapid', 'Ezzat_you', 1959, 'Dreffo', 2017, 'e4,e5,Bc4,Nf6,d3,h6,Nf3,Nc6,c3,Bc5,O-O,d6,h3,O-O,Re1,a6,d4,exd4,cxd4,Bb4,Nc3,Re8,Bd3,Bd7,a3,Ba5,b4,Bb6,Bc2,Nh7,Bf4,Qf6,Bg3,Nxd4,Nxd4,Bxd4', 'Nd5,Bxa1,Nxf6+', 'https://lichess.org/training/9UR2h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9urya', 'Rapid', 'G-a-b-r-i-e-l-e', 1833, 'Harezmi99', 1878, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Qd2,O-O,Bh6,Nbd7,Bxg7,Kxg7,Nd5,Nxd5,exd5,a6,Qc3,Kg8,Bd3,Ne5,f4,Nxd3+,Qxd3,Bd7,O-O-O,Rc8,f5,e6,fxe6,fxe6,dxe6,Qg5+,Kb1,Bb5,Qb3,Kh8,Rhf1,Qxg2,Rxf8+,Rxf8,e7,Re8,Qf7,Qg4,Qf8+,Rxf8', 'exf8=Q#', 'https://lichess.org/training/9urya');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9USg8', 'Rapid', 'exmark', 1867, 'sabrimutlu', 1872, 'e4,e5,f4,exf4,Nf3,h6,Bc4,g6,d4,Bg7,Bxf4,Nf6,Bxf7+,Kxf7,Ne5+,Kg8,Nxg6,Nxe4,Nxh8,Kxh8,O-O,d5,c3,Nc6,Nd2,Bf5,Nb3,b6,Bxh6,Bg6,Bxg7+,Kxg7,Qg4,Ne7,Rf4,Ng8,Raf1,Ngf6,Qe2,Qh8,Rxf6,Qh4,R6f4,Qg5,Nd2,Bh5,Qd3,Bg6,Nxe4,Bxe4,Qh3,Rh8,Qd7+,Kh6,Rg4,Qe3+,Kh1,Rf8,Qg7+,Kh5,Qxf8,Kxg4,h3+', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/9USg8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9UTZa', 'Blitz', 'radouanedorb', 2337, 'IM Mescalero81', 2421, 'e4,Nf6,e5,Nd5,c4,Nb6,c5,Nd5,Bc4,c6,Bxd5,cxd5,d4,d6,cxd6,exd6,Nf3,Nc6,O-O,Bg4,exd6,Qxd6,Be3,Be7,h3,Bh5,Nc3,O-O,g4,Bg6,Qb3,Bd3,Rfe1,Bc4,Qc2,Rac8,b3,Ba6,Qb2,Nb4,Red1,Rfe8,Qd2,h6,a3,Nc6,Qe1,Bf8,Na4,Bb5,Nc5,b6,a4,bxc5,axb5,Nxd4,Nxd4,cxd4,Rxd4,Qb8,Rxd5,Rc2,Qd1', 'Rxe3,Qxc2,Rxh3', 'https://lichess.org/training/9UTZa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Uu2i', 'Blitz', 'NM Insterburg', 2411, 'TolTolEm', 2292, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,e5,Ne8,f4,d6,Nf3,c5,dxc5,Qa5,cxd6,exd6,Be3,Nc6,Be2,dxe5,O-O,exf4,Bxf4,Nf6,Nd5,Be6,Bd2,Qc5+,Be3,Qd6', 'Nxf6+,Bxf6,Qxd6', 'https://lichess.org/training/9Uu2i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9uVMe', 'Rapid', 'ferrucciolari', 1688, 'zoranmarkovic', 1689, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,g3,Bc5,Be3,Qf6,c3,Nge7,Bg2,O-O', 'Nxc6,Bxe3,Nxe7+,Qxe7,fxe3', 'https://lichess.org/training/9uVMe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9UVOe', 'Blitz', 'DOTU', 1664, 'hawknosed', 1608, 'd4,c5,Nc3,cxd4,Qxd4,Nc6,Qd3,Nf6,Bg5,h6,Bh4,d5,f3,e6,O-O-O,Be7,e4,O-O,g4,d4,Nb5,e5,g5,hxg5,Bxg5,Nh5,Bxe7,Qxe7,Na3,Nf4,Qd2,Be6,h4,Rac8,Kb1,Nb4,b3,a5,Ne2,Nxe2,Bxe2,Rc7,h5,Rfc8,h6,g6,h7+,Kh8,Nb5,Rxc2,Qh6,Rxe2,Rc1,Rxc1+,Rxc1,Rxa2,Rh1,Qc5', 'Qg7+,Kxg7,h8=Q#', 'https://lichess.org/training/9UVOe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9UWb7', 'Rapid', 'ruzeebaba', 1677, 'Autzenfan', 1703, 'e4,c5,Bc4,Nc6,d3,g6,h3,Bg7,Nc3,e6,Nf3,Nge7,Bg5,O-O,a3,a6,O-O,b5,Ba2,Qc7,Bh4,Bb7,Re1,Ne5,Bg3,d6,Ng5,c4,dxc4,Nxc4,Rb1,Nxb2,Bxd6,Qd7,Rxb2,Bxc3,e5,Bxb2,Qg4,Rfc8,Qh4,h5,Qf4,Nf5,Ne4,Bxe4,Qxe4,Nxd6,exd6,Qxd6,Bb3,Rc5,Qxa8+,Kg7,Qf3,Bc3,Rd1,Bd4,c3,Rxc3', 'Qxc3,Qh2+,Kxh2', 'https://lichess.org/training/9UWb7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9uwEJ', 'Rapid', 'cakdiniz', 1647, 'Antondiniz', 1825, 'e4,e5,Nf3,Nf6,d3,Nc6,c3,Bc5,Be3,Bxe3,fxe3,d5,exd5,Nxd5,e4,Nf6,h3,O-O,Be2,Ne7,Nxe5,c5,O-O,b5,Bh5,Be6,Bg4,Qd6,d4,Nxg4,Nxg4,cxd4,cxd4,Rad8,d5,Bxg4,Qxg4,Qe5,Nc3,b4,Nd1,a5,Rb1,Ng6,Rf5,Qd4+,Kh1,Rde8,Nf2,Ne5,Qf4,Ng6,Qg4,Re5,Rd1,Qxb2,Nd3,Qc2,Rxe5,Nxe5,Nxe5,Qxa2,Rf1,b3,Rxf7', 'Qa1+,Kh2,Qxe5+', 'https://lichess.org/training/9uwEJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9V1dz', 'Rapid', 'Michael_K_1989', 1740, 'Roland_Alquimista', 1743, 'e4,Nf6,Nc3,e5,Nf3,d6,Bc4,Bg4,d3,Nc6,h3,Bxf3,Qxf3,Nd4,Qd1,Be7,O-O,O-O,Be3,Nc6,Nd5,Nxd5,Bxd5,Qd7,f4,exf4,Rxf4,Bg5,Rf3,Bxe3+,Rxe3,Nd8,Rg3,c6,Bb3,Ne6,Qg4,d5,Re1,g6,h4,Rad8,h5,Nc5,Qxd7,Rxd7,exd5,Nxb3,dxc6,bxc6,axb3,Kg7,hxg6,fxg6,Re4,Rf6,Rg5,Rdf7,Re1,Rf2,Rc5,R2f6,b4,Rb7,c3,Rd6,d4,a6,Re2,Kf6,Rf2+,Kg7,Re5,Rb5,Re7+,Kh6,Ra7,Rh5,Rxa6,Re6,Ra1,Re4,Ra5,Re1+,Rf1,Rxf1+,Kxf1,Rh1+,Kf2,Rb1,Ra2,Kg7,d5,cxd5,b5,d4,cxd4,Rc1,b6,Rc8,Ke3,Kf6,Kd3,Ke6,b7,Rb8,Ra7,Kd7,Ke4,Kc7,Kd5,Kb6,Ra3,Rd8+,Kc4,Kxb7,b4,Kb6,Rh3,Rd7,g4,Kc6,b5+,Kb6,Rf3,Rc7+,Kb4,Rd7,Rf6+,Kb7,Kc5,Rc7+,Rc6,Rf7,d5,Rf1,b6,Rc1+,Kd6,Rh1,Rc7+,Kxb6,Rc8,Kb7,Rc4,h5,gxh5,gxh5,Rb4+,Kc8,Rf4,h4,Kc6,Rc1+,Kd6,h3,Rh4,Rh1,Kc6,Rc1+,Kd6,Rc3,Ke5,Kd7,Rh7+,Ke8,d6,Re3+,Kd5,Rd3+,Kc5,Rc3+,Kd4,Rg3,Ke5,Re3+,Kf4,Rd3,Ke5,Re3+,Kf6,Rd3,Ke6,Re3+,Kd5,Kd8,Kc6,Rc3+,Kd5,Rg3,Kc6,Rc3+,Kd5,Ra3,Ke6,Re3+,Kf5,Rd3,Ke6,Rg3', 'Rh8+,Rg8,Rxg8#', 'https://lichess.org/training/9V1dz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9V1Hu', 'Rapid', 'ilir19', 1886, 'val71', 1841, 'd4,g6,c4,Bg7,Nc3,c6,e4,d6,Nf3,Bg4,Be2,Bxf3,Bxf3,Nd7,O-O,h6,Rb1,g5,b4,Qc7,d5,Bxc3,dxc6,bxc6,e5,Bxe5,b5,Nb8,Ba3,Nf6,c5,d5,bxc6,Bxh2+,Kh1,Bf4,Bxd5,Nxd5,Qxd5,Qxc6', 'Rxb8+,Rxb8,Qxc6+', 'https://lichess.org/training/9V1Hu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9v43j', 'Rapid', 'Matthias1373', 1766, 'oguz66', 1821, 'd4,d5,c4,dxc4,e4,c6,Bxc4,Nf6,Nc3,Bg4,Nf3,Bxf3,Qxf3,e6,Bg5,Be7,O-O,Nbd7,a3,O-O,Bd3,h6,Bh4,Nh7,Bxe7,Qxe7,e5,f5,exf6,Ndxf6,Rfe1,Rae8,Bf5,Qd6,Bg6,Re7,Rad1,Nd5', 'Bxh7+,Kxh7,Qxf8', 'https://lichess.org/training/9v43j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9V7Pf', 'Classical', 'imperatore91', 1875, 'LayoGP', 1695, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Be2,Be7,O-O,O-O,Nc3,Nxc3,dxc3,Nc6,Be3,h6,Qd2,b6,Rad1,Bb7,Nd4,Ne5,Nf5,Ng6,Bxh6,gxh6,Qxh6,Bf6,Bh5,Be4', 'Bxg6,fxg6,Qxg6+', 'https://lichess.org/training/9V7Pf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9vA3D', 'Rapid', 'maladam', 1783, 'hubba', 1863, 'e4,e5,Bc4,d6,d3,h6,Nc3,Nf6,h3,a6,a4,c5,Nf3,Be7,O-O,O-O,Be3,Nc6,Qd2,Nd4,Bxd4,cxd4,Nd5,Nxd5,Bxd5,Rb8,c3,dxc3,bxc3,Bd7,c4,Bc6,Rfb1,Qd7,Rb6,Rfc8,a5,Bd8,Rb2,Bxd5,exd5,Rc5,Qc3,Bf6,Rab1,e4,Nd4,exd3,Qxd3,Rxa5,Nc6,Bxb2,Nxb8,Qc7,Rxb2,Qxb8,Qb3,b5,Qb4,Ra1+,Kh2,Qc7,cxb5,axb5,Qxb5,Qe7,Re2,Qf6,Re8+,Kh7,Qd3+,g6,Qe2', 'Qf4+,g3,Qc1,Qe1,Qxe1,Rxe1,Rxe1', 'https://lichess.org/training/9vA3D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9vAu0', 'Rapid', 'Badger5', 1788, 'Aleksandrs1985', 1803, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,c3,a6,Bf4,e6,Nd2,Bd6,Bg3,Bxg3,hxg3,Bd7,a4,Nc6,Ngf3,Ne7,Ne5,Qc7,a5,Bb5,Bxb5+,axb5,Nb1,Rxa5,Rxa5,Qxa5,b4,Qc7,Qd3,Nc6,f4,O-O,Nd2,Nxb4,Qxb5,Qxc3,Ke2,Qxd4,Rd1,Nc2,Qb3,Nb4,Qe3,Qxe3+,Kxe3,Nc6,Rb1,Nxe5,fxe5,Ng4+,Kf4,h5,Rxb7,f6,exf6,Rxf6+,Kg5,Ne3,Nf3,Nxg2,Nh4,Nxh4,gxh4,d4,Kxh5,Rf5+,Kg6,Rd5', 'Rb8+,Rd8,Rxd8#', 'https://lichess.org/training/9vAu0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Vcwy', 'Rapid', 'troblianavo', 1753, 'Chesstakovich', 1758, 'e4,g6,Nc3,Bg7,f4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nf3,Nf6,Bd3,O-O,Be3,Bg4,Qd2,Nb4,Bc4,Bxf3,gxf3,e6,O-O-O,d5,exd5,exd5,Nxd5,Nbxd5,Bxd5,Nxd5,Qxd5,Qf6,Qb3,b6,h4,Rfe8,Bd4', 'Qxf4+,Kb1,Bxd4', 'https://lichess.org/training/9Vcwy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Vflq', 'Rapid', 'Aren30', 1888, 'Chipooo', 1723, 'e4,d5,e5,c5,Nf3,e6,Bb5+,Nc6,d3,a6,Bxc6+,bxc6,Be3,d4,Bf4,h6,h4,Ne7,c3,Nd5,Bg3,Qb6,cxd4,cxd4,b3,c5,Nbd2,Nc3,Qc2,Bb7,Nc4,Qd8,Ncd2,Be7,Ne4,Qa5,Nxc3,dxc3,Rc1,O-O,Qxc3,Qxa2', 'Ra1,Qxa1+,Qxa1', 'https://lichess.org/training/9Vflq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9VHkO', 'Classical', 'Rajkumar_du', 1764, 'yashsharma2807', 1753, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,O-O,Qe7,Re1,Nf6,Nc3,Qd7,Bg5,Be7,Rad1,O-O,Qe3,Ng4,Qf4,h6', 'Bxe7,Qxe7,Qxg4', 'https://lichess.org/training/9VHkO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9vITy', 'Blitz', 'Chessrealt', 2057, 'adamc2005', 2260, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nf6,Bd3,Nc6,O-O,g6,c3,Bg7,Re1,O-O,Bg5,Bf5,Bxf5,gxf5,Nbd2,Ne4,Bh4,Kh8,Qb3,Qd7,Bg3,Rg8,Nxe4,fxe4,Ne5,Nxe5,Bxe5,Bxe5,dxe5,Rxg2+,Kxg2,Rg8+,Kf1', 'Qh3+,Ke2,Qd3#', 'https://lichess.org/training/9vITy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9VjjX', 'Rapid', 'piochu', 1857, 'kuatkoroi', 1857, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Bf4,Nxd4,Qxd4,e5,Bxe5,dxe5,Qxe5+,Be7,Rd1,Qb6,Nb5,Kf8,Nc7,Ng4', 'Rd8+,Bxd8,Qe8#', 'https://lichess.org/training/9VjjX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Vlw6', 'Rapid', 'KJ1234', 1791, 'S4sha69', 1759, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,a6,Ba4,Nf6,Qe2,Be7,O-O,O-O,d4,Be6,d5,b5,Bb3,Bg4,dxc6,d5,exd5,Nxd5,Rd1,e4,Qxe4,Bxf3,Qxf3,Re8,Bxd5,Kh8,Be3,Bg5,Na3,Bxe3,fxe3,Qe7,Nc2,a5,a4,b4,cxb4,axb4,Qxf7,Qg5,Qxc7,Rad8,Bf3,b3,Nd4,Qxe3+,Kh1,Rxd4,Rd3', 'Qe1+,Rxe1,Rxe1#', 'https://lichess.org/training/9Vlw6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9VM0P', 'Blitz', 'alex-tsym', 1926, 'Aswerus', 2040, 'd4,d5,c4,Nc6,cxd5,Qxd5,Nf3,e5,Nc3,Bb4,Bd2,Bxc3,Bxc3,e4,Ne5,Be6,e3,Nxe5,dxe5,O-O-O,Qxd5,Bxd5,Be2,Ne7,O-O,Rhg8,b3,Nc6,Bb2,Rge8,Rac1,Nxe5,Rc5,Ng6,Rfc1,c6,Bxg7,Rg8,Bf6,Rd6,Bd4,Nh4,Bf1,Rh6,Rxd5', 'Nf3+,Kh1,Rxh2#', 'https://lichess.org/training/9VM0P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9VmRm', 'Blitz', 'BosssssB7', 1735, 'dipankerz', 1725, 'd4,c5,dxc5,Qa5+,Nc3,Qxc5,e3,d6,Bd3,e6,Nf3,Be7,O-O,Nf6,a3,O-O,Ne4,Nxe4,Bxe4,Nc6,b4,Qb6,Bb2,Bd7,h4,d5,Bxh7+,Kxh7,Ng5+,Bxg5,hxg5,Rh8,Qf3,Kg8,g6,Rf8,g3,fxg6,Qg4,Rh6,Kg2,Qd8,Rh1,e5,Qd1,Be6,Rxh6,gxh6,Qh1,Kh7,Qe1,Qf6,Qe2,Qf5,Rh1,Qe4+,f3,Qc4,Qd2,a6,e4,d4', 'Qxh6+,Kg8,Qxg6#', 'https://lichess.org/training/9VmRm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9vOfX', 'Blitz', 'AnaRhisT12', 1947, 'Sjthprr89', 1952, 'd4,d5,Bf4,Nf6,e3,a6,Nf3,Nc6,Bd3,h6,h3,e6,Nbd2,Bd6,Ne5,Bd7,O-O,O-O,Bg3,Nh7,f4,f5,Kh1,Nf6,Bh4,Be7,Bxf6,Bxf6,g4,Bxe5,dxe5,Qh4,Qf3,Nb4,Rg1,Nxd3,cxd3,Bc6,gxf5,exf5,Rg6,d4,e4,fxe4,Nxe4,Bxe4,Qxe4,Rxf4,Qd5+,Kh7,Qg2,Rg8,Rg1,Qe7', 'Rxh6+,gxh6,Qxg8#', 'https://lichess.org/training/9vOfX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9vsYZ', 'Blitz', 'kmichal1997', 1547, 'hmangaih', 1549, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Bg4,h3,Bh5,O-O,Be7,g4,Bxg4,hxg4,Nxg4,Ne5,h5,Nxg4,hxg4,Qxg4,Kf8,Bf4,Bd6,Bxd6+,Qxd6,Qg3,Qh6,Qg2,Nc6,Nc3,Nxd4,Nxd5', 'Nf3+,Qxf3,Qh2#', 'https://lichess.org/training/9vsYZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9vu2Y', 'Rapid', 'Shtumpa', 1721, 'pocoma', 1687, 'e4,e5,f4,exf4,Nf3,Nc6,d4,d6,Bxf4,Qf6,Bg5,Qg6,Nc3,Bg4,Be3,Nf6,Bd3,Nb4,Bb5+,c6,Be2,Be7,a3,Na6,O-O,Nxe4,Nxe4,Qxe4,Qd2,Nc7,Bd3,Qd5,c4,Qh5,Rae1,O-O-O,Bg5,Bxg5,Nxg5,f6,Nf3,Qf7,Re4,h5,Qc2,f5,Re3,h4,h3,Bxf3,Rexf3,g6,Re1,Ne6,Qc3,Ng5,Rfe3,Rde8,d5,Ne4,Bxe4,fxe4,Rxe4,Rxe4', 'Qxh8+,Qe8,Qxe8+,Rxe8,Rxe8+', 'https://lichess.org/training/9vu2Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9vzWB', 'Rapid', 'eduzor', 1962, 'chess-stitch', 1984, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,c6,e4,h6,Bxf6,Qxf6,e5,Qd8,Nf3,Be7,Bd3,Nd7,Rc1,Bg5,Rc2,dxc4,Bxc4,Nb6,Bb3,Nd5,Ne4,Nf4,O-O,Be7,Qd2,Nd5,a3,g5,Bxd5,exd5,Nf6+,Bxf6,exf6,Qxf6,Re1+,Be6,Ne5,h5,Rc3,g4,g3,Kd8,Nd3,h4,Qf4,Qxf4,Nxf4,hxg3,fxg3,Kd7,b4,a5,Rb1,axb4,Rxb4,b5,Nd3,Ra7,Ne5+,Kd6,Rxc6+,Ke7,Rc3,Rb7,Nd3,Rc8,Nc5,Rbc7,Rxb5,Bd7,Ra5,f5,Kf2,Be6,Ke3,Rc6,Kf4,Kf6,Ra7,Rb8,Nd7+', 'Bxd7,Rxc6+,Bxc6,Ra6,Rc8', 'https://lichess.org/training/9vzWB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9w1FL', 'Blitz', 'Eskozhanov_1_Semey1', 1836, 'asdfghjkl123mo', 1987, 'e4,c5,Nc3,d6,Bc4,e6,Nf3,Nf6,d4,cxd4,Nxd4,a6,O-O,Be7,Bg5,O-O,Nf3,b5,Bb3,Bd7,Re1,Nc6,a3,Qc7,h3,h6,Bh4,Rac8,Bg3,Rfd8,Qe2,Bf8,Rad1,Na5,Ba2,Nc4,Bxc4,bxc4,e5,dxe5,Nxe5,Qb7,Rxd7,Rxd7,Nxd7,Qxd7,Qf3,Nd5,Rd1,Rd8,Be5,Qb7,Qg3', 'Nxc3,Rxd8,Ne2+,Kh1,Nxg3+', 'https://lichess.org/training/9w1FL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9W4fg', 'Rapid', 'huseyin230', 1674, 'mclovin512', 1711, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nf6,Nc3,Nc6,Bb5,Bd7,O-O,e6,Re1,Bd6,Bg5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,a6,Ba4,b5,Bb3,Rxh2,Nxd5,Qb8,Nxf6+,Kd8,Ng4+,Kc8,Nxh2,Bxh2+,Kf1,Bd6,Qh5,Nxd4,Qh8+,Kc7,Qxd4,Kb7,c4,Qc7,c5,Bxc5,Qc3,b4,Qc4,a5,Be3,Kb6,Bxc5+,Qxc5,Qxc5+,Kxc5,Rac1+,Kb6,Re3,a4,Bc2,Rh8,Rh3,Rc8,Rh7,b3,Rxf7,Rxc2,Rd1,bxa2,Rfxd7,Rxb2,R7d6+,Ka5,R6d2', 'Rxd2,Rxd2,a1=Q+', 'https://lichess.org/training/9W4fg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9W7re', 'Rapid', 'hosein1382', 2181, 'Hjortefot', 2100, 'e4,b6,d4,Bb7,Nc3,e6,f4,Bb4,Bd3,Nf6,Qe2,c5,Nf3,c4,Bxc4,Nxe4,O-O,Nxc3,bxc3,Bxc3,Rb1,O-O,Bb2,Bxb2,Rxb2,d5,Bd3,Nc6,h4,a6,c3,Qe7,Bxh7+,Kxh7,Ng5+,Kg6,Qg4,f5,Qg3,Kh6,Re2,Bc8,h5,Rf6,Rfe1,Bd7,Nf3,Qf7,Qg5+,Kh7,Nh4,b5,Ng6,Re8,Re3,Rxg6', 'hxg6+,Qxg6,Rh3+', 'https://lichess.org/training/9W7re');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9W96R', 'Rapid', 'supasheww', 1794, 'jesusmelo92', 1811, 'e4,e5,Bc4,Nf6,Nf3,d5,Bb3,Bg4,O-O,dxe4,h3,Bxh3,gxh3,exf3,Qxf3,c6,Re1,Bd6,c3,O-O,d4,Nbd7,Bg5,h6,Bh4,Qb8,Nd2,exd4,cxd4,Re8,d5,cxd5,Bxd5,Nxd5,Qxd5,Nb6', 'Rxe8+,Qxe8,Qxd6', 'https://lichess.org/training/9W96R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9WbMA', 'Rapid', 'Edard', 1745, 'ostapbenderr', 1651, 'e4,c6,d4,d5,e5,c5,Nf3,cxd4,Nxd4,Nc6,Nxc6,bxc6,Be2,f6,exf6,Nxf6,O-O,Bf5,Bf4,e6,Nd2,Bd6,Bg5,Be7,c3,h6,Bh4,O-O,Bg3,Bd6,Bh4,Qc7,Bg3,Bxg3,fxg3,Rab8,Nb3,Ne4,Bd3,Qb6+,Nd4,c5,Nxf5,c4+,Kh1,Nf2+,Rxf2,Qxf2,Ne7+,Kh8,Ng6+,Kg8,Nxf8,cxd3,Nxe6,Rxb2,Qg1,Qxg1+,Kxg1,d2,Kf1,Rc2,Ke2', 'Rc1,Kxd2,Rxa1', 'https://lichess.org/training/9WbMA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9wDoL', 'Rapid', 'LaMarmota', 1963, 'Sfide_Mentali', 2038, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,Nxe4,Bxf7+,Kxf7,Nxe4,Re8,O-O,Rxe4,d5,Ne5,d6,Kg8', 'Qd5+,Nf7,Qxe4', 'https://lichess.org/training/9wDoL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9WdsZ', 'Rapid', 'Spider202020', 2027, 'bojawad', 1805, 'Nf3,Nf6,c4,d5,b3,dxc4,bxc4,c5,Bb2,Ne4,d3,Nd6,g3,Nc6,a3,Bg4,Bg2,e6,O-O,Be7,Bxg7,Rg8,Bc3,h5,h3,Bxf3,Bxf3,h4,g4,Nf5,e3,Qd7,Qe2,Nh6,Nd2,f5,Kh1,fxg4,hxg4,e5,Rg1,O-O-O,Bd5,Rg7,Ne4,Nxg4,Rxg4,Qxg4', 'Qxg4+,Rxg4,Be6+,Kb8,Bxg4', 'https://lichess.org/training/9WdsZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9wfQw', 'Rapid', 'charly204799', 1856, 'Alaga', 1857, 'd4,g6,c4,Bg7,Nf3,e6,e4,Ne7,e5,c5,d5,exd5,cxd5,Qa5+,Nc3,O-O,Be2,Nf5,O-O,d6,Bf4,Nd4,exd6,Nxf3+,Bxf3,Bxc3,bxc3,Qxc3,Re1,Qd4,Be5,Qxd1,Raxd1,Nd7,Bf4,b6,Re7,f5,Rde1,Nf6,Bh6,Rd8,Rg7+,Kh8,Ree7,Rxd6,Bg5,Ba6,Ref7,h6,Bxh6,Rc8,Bf4,Ne8,Bxd6,Nxg7,Be5,Re8,Bxg7+', 'Kg8,Rf8+,Rxf8,Bxf8,Kxf8', 'https://lichess.org/training/9wfQw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9WjLV', 'Rapid', 'srikjonn2', 1710, 'robertDJR88', 1680, 'd4,h6,e4,a6,e5,e6,Bc4,d6,exd6,Bxd6,d5,Nf6,dxe6,Bxe6,Bxe6,fxe6,Nf3,Ng4,Be3,Qe7,h3,Ne5', 'Nxe5,Bxe5,Qh5+,Qf7,Qxe5', 'https://lichess.org/training/9WjLV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Wk0d', 'Rapid', 'Qwerty-81', 1805, 'mohamedelsheikh', 1757, 'e4,e6,Bc4,d5,exd5,exd5,Qe2+,Be7,Bb3,Nf6,d4,O-O,Nf3,Bb4+,c3,Re8,Ne5,Bd6,Bf4,Nc6,O-O,Ng4,Qf3,Ncxe5,Bxe5,Bxe5,dxe5,Nxe5,Qxd5,Qf6,Nd2,c6,Qe4,Bf5,Qf4,Nd3,Qd4,Qg6,Nf3,Bh3,Nh4,Qg5,Qxd3,Bg4,Nf3,Qf4,Rfe1,Red8,Qc4,Qf6,Ne5,Be6,Qe4,Rd2,Rf1,Re8,Nd7,Bxd7,Qf3,Qg6,h3,Rd3', 'Bxf7+,Qxf7,Qxd3', 'https://lichess.org/training/9Wk0d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9wnU2', 'Blitz', 'Shevizuki', 2309, 'IM pawnwonder', 2282, 'e4,c5,Ne2,Nc6,Nbc3,g6,g3,Bg7,Bg2,d6,d3,e6,O-O,Nge7,f4,O-O,h3,d5,e5,f6,exf6,Bxf6,g4,b6,g5,Bg7,Ng3,Qc7,Bd2,Bd7,Rb1,Rf7,h4,Raf8,h5,e5,Nxd5,Qd6,Nxe7+,Nxe7,h6,Bh8,Ne4,Qd4+,Kh1,exf4,Bc3,Qd5,Nf6+,Bxf6,Bxd5,Nxd5,Bxf6,Nxf6,gxf6,Rxf6,Qf3', 'Bc6,Qxc6,Rxc6', 'https://lichess.org/training/9wnU2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9wsk2', 'Rapid', 'cascarabito', 2022, 'erpichi', 1989, 'd4,Nf6,Bf4,d5,e3,e6,Be2,c5,Nf3,Nc6,O-O,Bd6,Bg5,O-O,c4,cxd4,exd4,dxc4,Bxc4,Qc7,Nbd2,h6,Bxf6,gxf6,Nb3,b6,Rc1,Qd7,Qd2,Kh7,Bd3+,f5,Bb1,Bb7,d5,exd5,Qxd5', 'Bxh2+,Nxh2,Qxd5', 'https://lichess.org/training/9wsk2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9WTbE', 'Rapid', 'lolomendez', 1782, 'Alisantos05', 1759, 'd4,Nf6,Bf4,g6,Nc3,Bg7,e4,d6,Qd2,Nbd7,Bh6,O-O,h4,Ng4,Bxg7,Kxg7,f3,Ngf6,g4,e5,Nge2,exd4,Nxd4,c5,Ndb5,Qb6,Qxd6,Qxd6,Nxd6,b6,O-O-O,Ne5,Bg2,Ba6,Nd5,Nxd5,Rxd5,Nc4,Nxc4,Bxc4,Rd6,Rad8,Rhd1,Rxd6,Rxd6,Bb5,g5,h6,gxh6+,Kxh6,Rf6,Kh5,Bh3,Kxh4,Be6,Be8,Kd2,Kg5,e5,Kh6,f4,Kg7,Bc4,b5,Bd5,Rh8,Ra6,Rh2+,Kd1,Rf2,Rxa7,Rxf4,e6', 'Rd4+,Ke2,Rxd5', 'https://lichess.org/training/9WTbE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9WVDk', 'Blitz', 'Etrengereid', 2244, 'ND_lopez', 2223, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,a6,Na3,b5,Nd5,Nf6,Be3,Nxd5,exd5,Ne7,c4,bxc4,Nxc4,g6,Nb6,Rb8,Qa4+,Bd7,Qxa6,Nf5,Bb5,Bxb5', 'Qxb5+,Ke7,Bg5+,f6,Bxf6+,Kxf6,Nd7+,Kg7,Nxb8', 'https://lichess.org/training/9WVDk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9WveK', 'Rapid', 'nicolaykosarov', 1699, 'biza1211', 1683, 'e4,a5,d4,c6,Nf3,e6,Nc3,Ne7,Bg5,Qb6,b3,Ng6,Na4,Bb4+', 'c3,Qc7,cxb4', 'https://lichess.org/training/9WveK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9wvRL', 'Blitz', 'CM papasi', 2545, 'Ralin_Chua', 2222, 'd4,b6,e4,Bb7,Bd3,e6,Nf3,c5,c3,Nc6,O-O,cxd4,cxd4,Nb4,Nc3,Nxd3,Qxd3,a5,Re1,Nf6,Bg5,Be7,e5,Nd5,Bxe7,Qxe7,Ne4,Nb4,Qe2,Rc8', 'Nd6+,Qxd6,exd6', 'https://lichess.org/training/9wvRL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9wWEY', 'Rapid', 'DarkGravel', 1876, 'Messi_1_numara', 1740, 'e4,e5,Nc3,Nf6,f4,exf4,Nf3,Nc6,Bb5,d6,O-O,Bd7,d4,Qe7,a4,g6,Bxc6,Bxc6,d5,Bd7,Bxf4,Bg7,h3,O-O,Re1,a6,Qd2,Nh5,Bg5,f6,Be3,Qf7,g4,Ng3,Bf2,Nxe4,Nxe4,f5,Neg5,Qf6,Bd4,Qd8,Bxg7,Kxg7,Ne6+,Bxe6,Rxe6,fxg4,Qd4+,Kg8,Qxg4,c6,Ng5,Qb6+,Kh1,Qxb2,Rg1,cxd5,Nxh7,Qxc2,Rxg6+,Kh8,Rg8+,Rxg8', 'Qd4+,Kxh7,Qh4#', 'https://lichess.org/training/9wWEY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9wYs0', 'Rapid', 'Dhirendra297', 1714, 'Venoum', 1681, 'e4,e5,Nf3,d5,exd5,e4,Nd4,Bc5,c3,Qxd5,d3,Nf6,Be2,O-O,O-O,exd3,Bxd3,Nc6,Nf3,Be6,c4,Qh5,Be2,Bd6,Nc3,Bg4,g3,Bh3,Re1,Rfe8,Bg5,Ne5,Bxf6', 'Nxf3+,Bxf3,Rxe1+,Qxe1,Qxf3', 'https://lichess.org/training/9wYs0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9x4xx', 'Rapid', 'Abuuu', 1649, 'marky95', 1644, 'c4,e5,Nc3,Nf6,g3,Bc5,Bg2,d6,Nf3,Nc6,O-O,Be6,Qb3,b6,e3,d5,cxd5,Nxd5,e4,Nf4,Qc2,Nxg2,Kxg2,Qd7,d3,Bh3+,Kg1,Bxf1,Kxf1,Nd4,Nxd4,Bxd4,Nd5,Qh3+,Ke2,Qxh2,Be3,Bxe3,Kxe3,O-O,Qxc7,Rac8', 'Ne7+,Kh8,Nxc8', 'https://lichess.org/training/9x4xx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9x6c6', 'Rapid', 'Iker0812', 1673, 'Anjaly', 1705, 'e4,e6,d4,d5,Bd3,Nf6,e5,Nfd7,Nf3,c5,c3,Nc6,O-O,c4,Be2,b5,b3,a6,a4,Bb7,axb5,axb5,Rxa8,Bxa8,b4,Be7,Re1,O-O,Bf1,Bb7,Nbd2,Bc8,Be2,f6,Nf1,fxe5,Nxe5,Ncxe5,dxe5,Nxe5,Ng3,Bg5,Bf1,Qf6,f3,Bxc1,Qxc1,Bd7,Qe3,Nc6,Nh5,Qf5,Ng3,Qg6,Qc5,Nd8,Qd6,Qf7,Ra1,Nb7,Qb6,Nd8,Ra8,Qe7,Be2,Nc6,Ra1,Ne5,Ra7,Qf6,Nh5,Qf5,f4,Be8,Rxg7+,Kh8,Qc7,Bxh5,Bxh5,Qxh5,g4,Qh3', 'Qxe5,Qe3+,Qxe3', 'https://lichess.org/training/9x6c6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9X8ma', 'Rapid', 'Maryse-EPL', 1653, 'Second73', 1649, 'd4,d5,Bf4,Nc6,c3,g6,e3,Bg7,Nf3,Nf6,Nbd2,O-O,Be2,Bf5,O-O,e6,h3,Ne7,Ne5,c6,Bg4,Bxg4,Nxg4,Nxg4,Qxg4,f5,Qe2,a6,Nf3,Bf6,Ne5,g5,Bh2,Bxe5,Bxe5,Ng6,Bh2,Qf6,f3,f4,exf4,gxf4,Rfe1,Rae8,Qd3,e5,dxe5,Nxe5,Qc2,Qg5,Kh1,Qh4,Rf1,Nc4,Bg1,Re5,Bf2,Qe7,Rae1,Rff5', 'Qxf5,Rxf5,Rxe7', 'https://lichess.org/training/9X8ma');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9x8rK', 'Rapid', 'Sherif9090', 1935, 'stefann1988', 1825, 'e4,e5,d4,exd4,f4,g6,Nf3,Bg7,Bc4,Ne7,O-O,d5,exd5,Nxd5,Bd3,O-O,Bd2,Bg4,c4,dxc3,Nxc3,Nxc3,Bxc3,Bxc3,bxc3,c6,h3,Be6,Rb1,Qc7,Ng5,Bxa2,Rb2,Bd5,Be4,Bxe4,Nxe4,Nd7', 'Qxd7,Qxd7,Nf6+,Kg7,Nxd7', 'https://lichess.org/training/9x8rK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9xBdi', 'Blitz', 'JanChristoph', 1895, 'Feklor', 1853, 'd4,d5,Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,c4,c6,b3,Bf5,Bb2,Qc8,e3,Bh3,Nbd2,Bxg2,Kxg2,Nbd7,Qe2,Ne4,Rac1,Nxd2,Nxd2,e6,Rc2,Nf6,Rfc1,Qd7,cxd5,exd5,Nf3,Rfe8,Ne5,Qd6,f4,Re7,a3,Rae8,b4,Nd7,b5,Nb8,bxc6,bxc6,Nxc6,Rxe3,Qb5,a6,Qb4,Qe6,Nxb8,Qe4+,Kg1,Re2,Rxe2,Qxe2,Rf1,Bf8,Qb7,Qe3+,Rf2,Qe1+,Kg2,Qe4+,Kh3,Qf5+,g4,Qd3+,Kg2,Qe4+,Kg3,Qe3+,Rf3,Qe1+,Kh3,h5,gxh5,Qe6+,f5,Qf6,Qxd5,Qg5,hxg6,Qh5+,Kg2,Re2+,Kg1', 'Qxh2+,Kf1,Qg2#', 'https://lichess.org/training/9xBdi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9xCrD', 'Rapid', 'Avempace', 2010, 'Incredible_Tactics', 2045, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,b6,Ne2,Bb7,a3,Be7,d5,O-O,Ng3,a5,e4,d6,Be2,Nbd7,O-O,Nc5,Rb1,a4,Be3,Nfd7,Bg4,e5,Nf5,g6,Bh6,gxf5,Bxf8,Qxf8,Bxf5,Ba6,Qg4+,Kh8,Bxd7,Nxd7,Qxd7,Re8,Qxc7,Qg7,Qxb6,Rg8,g3,Bxc4,Qe3,Bg5,Qf3,Bxf1,Rxf1,Rb8,Nxa4,Qf8,h4,Bh6,Qf6+,Bg7,Qf5,Qe8,Nc3,Rxb2,Ra1,Qb8,a4,Rb3,Qf3,f5,exf5,e4,Qxe4,Bxc3,Ra2,Rb1+,Kg2,Be5,a5,Qb4,Qxb4,Rxb4,a6,Rb8,Kf3,Ra8,Ke4,Kg7,f4,Bc3,a7,Ba5,g4,Bb6,g5,Rxa7,Rxa7+,Bxa7,f6+,Kf7,Kf5,Be3', 'h5,Bd2,g6+', 'https://lichess.org/training/9xCrD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9XdSm', 'Rapid', 'giobar', 1680, 'Masoud1331', 1681, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,Nf6,N1c3,h6,Nd6+,Bxd6,Qxd6,Qe7,Nb5,O-O,Qxe7,Nxe7,Nd6,Nc6,Bc4,Nb4,Bb3,Nc6,f4,b6,O-O,Nd4,Bxf7+,Rxf7,Nxf7,Kxf7,fxe5,Ba6,Rf2,Nxc2,Rxc2,Nxe4,b3,Ke6,Bb2,Rf8,h3,Bd3,Rc7,Rf2,Bd4,Rd2,Rxa7,Ng3,Bxb6,Be4,Bf2,Ne2+,Kf1,Bd3,Ke1,Rb2,Rd1,Bb5,a4,Nc3,Rd2', 'Rb1+,Rd1,Rxd1#', 'https://lichess.org/training/9XdSm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Xhs6', 'Blitz', 'safwanaljbaae', 1692, 'Ne-bum-bum', 1688, 'e4,Nc6,Nf3,d5,exd5,Qxd5,Nc3,Qh5,Be2,Bg4,h3,Nf6,O-O,e6,hxg4,Nxg4,d3,Bd6,g3,Nce5,Kg2,Nxf3,Rh1,Qc5,Bxf3', 'Qxf2+,Kh3,Qxg3#', 'https://lichess.org/training/9Xhs6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Xjhw', 'Rapid', 'eikebegindang', 1746, 'Dr__Grandmaster', 1751, 'e4,d5,Nf3,dxe4,Ng5,Nf6,Nc3,Bf5,Bc4,e6,Qe2,Qd4,d3,exd3,cxd3,Bb4,O-O,O-O,Nb5,Qd8,Bf4,Ba5,h3,a6,Nc3,b5,Bb3,Bxd3,Qf3,Bxf1,Qxa8,Bxc3,Rxf1,Bxb2,Qf3,c5,Bc2,g6,Ne4,Nxe4,Qxe4,Bd4,h4,Qd5,Qe2,e5,Bh6,Re8,Be4,Qe6,Qf3,Nd7,Bd5,Qf6,Qh3,Nb6,Be4,c4,Bg5,Qe6,Qh2,c3,h5,Qg4,hxg6,Qxg5', 'Qxh7+,Kf8,Qxf7#', 'https://lichess.org/training/9Xjhw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9XK4B', 'Blitz', 'kitekeremanyakad', 2567, 'IM chargemax23', 2640, 'c3,e5,d4,e4,Bf4,d5,e3,Bd6,Bxd6,Qxd6,Qa4+,c6,Qa3,Qg6,Ne2,Ne7,Nf4,Qf6,c4,g5,Nh5,Qg6,Ng3,h5,h4,Bg4,Nc3,Nd7,cxd5,cxd5,Bb5,a6,Rc1,Rd8,Be2,gxh4,Rxh4,Nf6,Bxg4,Nxg4,Nge2,Qf6,Rxg4,hxg4,Nf4,Rh1+,Kd2,Rxc1,Kxc1,Qc6,Kd2,Rc8,Qb3,Rd8,Qd1,f5,Qh1,Qf6,Qh7,Qf7,Qh6,Kd7,Qb6,Kc8,Qc5+,Kb8,Na4,Nc8,Nc3,Qc7', 'Qxc7+,Kxc7,Ne6+,Kd7,Nxd8', 'https://lichess.org/training/9XK4B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Xk6Z', 'Blitz', 'yazcc', 1630, 'Juke_3', 1626, 'd4,d5,c4,Nf6,cxd5,Nxd5,Nc3,Nxc3,bxc3,e6,e4,Be7,f4,c5,Nf3,Nc6,Bb5,Bd7,Bxc6,Bxc6,O-O,Bxe4,Ne5,cxd4,cxd4,Rc8,Qg4,Bf5,Qxg7,Rf8,Be3,Bf6,Qh6,Rg8,Kh1,Qd5,Rg1,Bxe5,dxe5,Rc2,Rad1,Rcxg2,Rxd5', 'Rxg1+,Bxg1,Be4#', 'https://lichess.org/training/9Xk6Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9XkoW', 'Bullet', 'Carlton123', 1698, 'maroti358', 1593, 'd4,d5,Nc3,Nc6,e4,dxe4,d5,Ne5,Qd4,f6,Qxe4,g6,Bf4,Bf5,Qa4+,Qd7,Bb5,c6,dxc6,bxc6,Rd1,Qb7,Bxe5,cxb5,Qxb5+,Qxb5,Nxb5,fxe5,Nc7+,Kf7,Nxa8,Bxc2,Rd2,Be4,f3,Bxa8,Ne2,e6,O-O,Nf6,Rfd1,Bc5+,Kf1,Nd5,Ke1,Bb4,Nc3,Nxc3,Rd7+,Kf6,bxc3,Bxc3+,Ke2,Bc6,Rd8,Rxd8,Rxd8,Bb5+,Kf2,a5,Rb8,Bc6,Rc8,Bd4+,Kg3,Bd5,h4,Bxa2,Rf8+,Kg7,Ra8,Bc3,Ra7+,Kf6,Ra8,Bd5,Ra7,Bb3,Rxh7,a4,Ra7,Bb2,h5,gxh5,Kh4,a3,Kxh5,a2,g4,a1=Q', 'g5+,Kf5,Rf7#', 'https://lichess.org/training/9XkoW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9xkOY', 'Rapid', 'Hitesh112', 1700, 'ArN87', 1707, 'e4,d6,Nf3,Nf6,Nc3,e5,d3,Be7,Bg5,O-O,Bxf6,Bxf6,Nd5,c6,Nxf6+,Qxf6,Be2,Nd7,O-O,b5,d4,Rb8,dxe5,dxe5,Nd2,Nc5,Bf3,Qg6,Qe2,Be6,Nb3,Bc4,Qe3,Nxb3,axb3,Bxf1,Kxf1,a6,Qc5,Qe6,h3,Rfd8,Rxa6,Rbc8,Bg4,Qd6', 'Qxd6,Rxd6,Bxc8', 'https://lichess.org/training/9xkOY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9XKVO', 'Rapid', 'enrikus', 1631, 'BubbleTramp', 1612, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bd7,c3,Be7,d4,exd4,cxd4,Bf6,Nc3,a6,Ba4,b5,Bb3,Na5,Bd2,Nc4,Qc2,Bg4,Nd5,Nxd2,Nxd2,Bxd4,Nxc7+,Kf8,Nxa8,Qxa8,Qd3,Be5,f3,Be6,f4,Bxb2,Qxd6+,Ne7,Rae1,Bxb3,axb3,Qa7+,Kh1,g6,f5,gxf5,exf5,Rg8,Rxe7,Qxe7,Qh6+,Rg7,f6,Bxf6,Rxf6,Qe2,Qf4', 'Qxg2#', 'https://lichess.org/training/9XKVO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9xoEo', 'Rapid', 'BenjaminDerBauer', 1956, 'Markus_Luy', 1764, 'e4,e6,d4,d5,Nc3,Bb4,Ne2,dxe4,a3,Bxc3+,Nxc3,Nf6,Bg5,h6,Bxf6,Qxf6,Nxe4,Qe7,Qd2,b6,d5,Bb7,Bb5+,c6,dxc6,Bxc6,Bxc6+,Nxc6,O-O-O,O-O,h4,Rfd8,Qe2,Nd4,Qe3,e5,g4,Rac8,Rd2,Qc7,Qd3,Nf3,Qxf3,Rxd2,c3,Rd7,g5,Qb7,gxh6,gxh6,Nf6+,Kf8,Nxd7+,Qxd7,Rd1,Qe6,Qe4,Qf6,Qb4+,Kg7', 'Qg4+,Kh7,Qxc8', 'https://lichess.org/training/9xoEo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9xUDi', 'Rapid', 'xAKEP228', 1816, 'AlimasovVA', 1803, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Ba4,Nxf3+,Qxf3,Qf6,Qxf6,Nxf6,O-O,Bc5,Nc3,c6,a3,O-O,d3,b5,Bb3,d6,h4,Be6,Bg5,Nd7,Bxe6,fxe6,b4,Bd4,Bd2,Bxc3,Bxc3,Nb6,Bd2,Rf7,Be3,Na4,g3,a6,Rab1,Nc3,Rb2,Ne2+,Kg2,d5,c4,d4,Rxe2,dxe3,Rxe3,Rd8,c5,Rd4,Rd1,Ra7,Rb1,a5,Kf3,axb4,axb4,Ra4,Ke2,Raxb4,Rxb4,Rxb4,Kd1,Rb2,Re2,Rxe2,Kxe2,Kf7,Kd2,h6,Kc3,Kg6,Kb4,Kh5,f3,g5,hxg5,Kxg5,Kc3,h5,d4,exd4+,Kxd4,h4,gxh4+,Kxh4,Ke5,Kg3,Kxe6', 'b4,e5,b3,Kd7,b2,e6,b1=Q', 'https://lichess.org/training/9xUDi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Xx0V', 'Blitz', 'namesake', 2246, 'FM Ty3oB', 2309, 'd4,g6,Nf3,Bg7,g3,d6,Bg2,Nf6,O-O,O-O,b3,Nc6,Bb2,Bd7,d5,Nb4,c4,c5,a3,Na6,Nbd2,b5,Qc2,Rb8,Bc3,Qc8,e4,Nc7,e5,Nfe8,exd6,exd6,Bxg7,Nxg7,Ne4,Bf5,Nf6+,Kh8,Qd2,Nce8,Nxe8,Rxe8,Qh6,f6,Qf4,Qd7,Rfe1,Rxe1+,Nxe1,bxc4,bxc4,Rb3,h4,h5,Be4,Kh7,Rb1', 'Rxb1,Bxb1,Bxb1', 'https://lichess.org/training/9Xx0V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Xyg5', 'Classical', 'Horrible_Rus_hacker', 1649, 'ZestyX', 1786, 'e3,c5,Be2,Nc6,Nf3,Nf6,O-O,g6,d4,cxd4,exd4,d5,Nc3,Bg7,Be3,O-O,a3,h6,Qc1,Kh7,Bd3,Qc7,Ne5,Nxe5,dxe5,Nd7,Nxd5,Qxe5,Rd1,Qxb2,Nxe7,Qxc1,Raxc1,Bb2,Rb1,Bxa3,Nxc8,Rfxc8,Rxb7,Ne5,f4,Nxd3,cxd3,Kg8,Bxa7', 'Rxa7,Rxa7,Bc5+,d4,Bxa7', 'https://lichess.org/training/9Xyg5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9xyrc', 'Blitz', 'Borcman', 1891, 'lyfta', 1898, 'e4,d6,Nc3,Nf6,g3,Nbd7,Bg2,e5,d3,c6,Nh3,Qc7,f4,Be7,O-O,b6,Kh1,h6,Be3,Nh7,f5,Ndf6,a4,g5,fxg6,fxg6,Qd2,g5,Rf2,Ng4,Rff1,Bd7,Bg1,O-O-O,Nf2,h5,a5,b5,Nxg4,hxg4,Qe3,Kb8,a6,Nf6,Ne2,Nh5,d4,exd4,Qxd4,Bf6,Qe3,Be5,c4,d5,cxb5,Nxg3+,Nxg3,Bxg3,b6,Qd6,bxa7+,Ka8,Qb6,Bc8,exd5,cxd5,Rfd1,Rxh2+,Bxh2,Bxh2,Qxd6,Bxd6,Bxd5+,Kxa7,Bb7,Bf5,Ra5,Rh8+,Kg2,Be4+,Bxe4,Rh2+,Kf1,g3,Rxg5,Rf2+,Ke1', 'Bb4+,Rd2,Bxd2+,Kd1,Bxg5', 'https://lichess.org/training/9xyrc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9xzfi', 'Classical', 'mousa902', 1758, 'praga70', 1758, 'c4,e5,e4,Nf6,Nc3,c6,g3,Bb4,Nge2,O-O,Bg2,d6,O-O,Be6,b3,Bxc3,dxc3,Nbd7,Qxd6,Qa5,Bb2,Rad8,Qd1,Nc5,Qc2,Nd3,b4,Qc7,Ba3,Qd7,c5,Bh3,Rad1,Bxg2,Kxg2,Qg4,Rxd3', 'Qxe4+,f3,Qxd3,Qxd3,Rxd3', 'https://lichess.org/training/9xzfi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9y0CZ', 'Rapid', 'kaunasny', 1728, 'Mahesethu', 1726, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,d6,Nxd4,Nxd4,Qxd4,Qf6,Qd3,Be6,h4,Bxc4,Qxc4,O-O-O,Bg5,Qxb2,Qc3,Qxc3+,Nxc3,Re8,f3,h6,Be3,g6,g4,Bg7,Kd2,Nf6,g5,hxg5,hxg5,Rxh1,Rxh1,Nh5,f4,Ng3,Rh7,Bxc3+,Kxc3,Nxe4+,Kd3,Re7,Bd4,Rd7,Kxe4', 'f5+,gxf6,Rxh7', 'https://lichess.org/training/9y0CZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Y58V', 'Rapid', 'Handtalk', 2131, 'Juke_3', 2193, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,O-O,e3,b6,Nf3,Bb7,Bd3,d6,Bd2,Nbd7,e4,e5,dxe5,Nxe5,Nxe5,dxe5,Nd5,Bxd2+,Qxd2,c6,Nxf6+,Qxf6,Qe3,Rad8,c5,bxc5,O-O,Qd6,Bc4,Qd4,Rac1,Qxe3,fxe3,Rd2,Bb3,Ba6,Rf2,Rxf2,Kxf2,c4,Bxc4,Bxc4,Rxc4,Rb8,b3,Rb6,Ke2,Kf8,Kd3,Ke7,Ra4,Rb7,Kc4,Kd6,Ra6,g6,b4,f5,exf5,gxf5,a4,Kd7,b5,cxb5+,axb5,Ke7,Kc5,Rc7+,Rc6,Rb7,Rh6,Kd8,Kc6', 'Rb6+,Kd5,Rxh6', 'https://lichess.org/training/9Y58V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Y6MF', 'Blitz', 'merab1968', 1673, 'maryanng', 1680, 'e4,e5,d4,exd4,Nf3,d5,e5,Bg4,h3,Bxf3,Qxf3,Bb4+,c3,Bc5,Bd2,Nc6,cxd4,Nxd4,Qd3,Ne7,Nc3,c6,Ne2,Nxe2,Bxe2,Qb6,O-O,O-O,Bd1,Ng6,Bc2,Qxb2,Rab1,Qd4,Qxd4,Bxd4,Rxb7,Bxe5,f4,Bd4+,Kh1,Bb6,f5,Ne5,Bf4,f6,g4,h6,Bxe5,fxe5,h4,Rf7,Rxf7,Kxf7,g5,hxg5,hxg5,e4,Kg2,Be3,g6+,Kf6,Rh1,d4,Bb3,d3,Re1,Bd4,Rxe4,c5,Re6+,Kxf5,Kf3,Rd8,Re7,Kxg6,Kg4,Bf6,Bf7+,Kh6,Re1,Rd4+,Kf5,Rh4,Rd1,Rh2,Rxd3,Rf2+,Kg4,Bg5', 'Rh3+,Bh4,Rxh4#', 'https://lichess.org/training/9Y6MF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9YdY4', 'Classical', 'tommybnoble', 1665, 'uola', 1691, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Qf3,Qe7,Nc3,Nf6,Bf4,d6,O-O-O,O-O,Rhe1,Bb4,e5,Bxc3,Qxc3,Nd5,exd6,Qh4,Bxd5', 'Qxf4+,Qe3,Qxe3+,Rxe3,cxd5', 'https://lichess.org/training/9YdY4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9YHWN', 'Rapid', 'cantuja02', 1945, 'snomty', 1947, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nbd2,d5,exd5,Nxd5,O-O,O-O,a3,Bxd2,Bxd2,Bg4,h3,Bh5,Be2,Re8,Re1,Bxf3,Bxf3,Nxd4', 'Rxe8+,Qxe8,Bxd5', 'https://lichess.org/training/9YHWN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9YK3W', 'Rapid', 'BucketOGrease', 1830, 'viswa123', 1830, 'd4,b6,Bf4,Bb7,e3,e6,c4,Nf6,Nf3,d6,Be2,Nbd7,Rg1,g6,Bg5,Bg7,Nfd2,O-O,h4,Qe8,h5,Nxh5,Bxh5,gxh5,Qxh5,f6,Qxe8,Rfxe8,Bh4,e5,d5,f5,Nc3,e4,O-O-O,Ne5,Rde1,Nd3+,Kc2,Nxe1+,Rxe1,a6,a4,Rac8,Rg1,c6,dxc6,Bxc6,g4,Bxc3,Kxc3,fxg4,Rxg4+,Kf7,b3,b5,axb5,axb5,Bg3,d5,c5,Bd7,Rf4+,Kg6,b4,h5,Kd4,Bc6,Nb3,Re6,Na5,Ba8,Rh4,Rf6,Rh1,Kg5', 'Bh4+,Kf5,Bxf6', 'https://lichess.org/training/9YK3W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9yktE', 'Classical', 'oscarcossio', 1675, 'vanhela1', 1723, 'e4,e5,Nf3,Nf6,Nc3,Nc6,b3,d5,exd5,Nxd5,Nxd5,Qxd5,Bc4,Qe4+,Qe2,Qg4,d3,Bb4+,Bd2,Bxd2+,Qxd2', 'Qxg2,O-O-O,Qxf3', 'https://lichess.org/training/9yktE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9ynPi', 'Blitz', 'MFRenePilartte', 2463, 'Valsinarb1963', 2284, 'Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,d6,c4,O-O,Nc3,Nc6,d4,a6,d5,Na5,Nd2,c5,Qc2,Rb8,b3,b5,Bb2,Nd7,Rab1,bxc4,bxc4,Nb6,Nd1,Bxb2,Rxb2,Bd7,Ne3,Na4,Rxb8,Qxb8,Rb1,Qc7,Bh3,f5,Nd1,Rb8,Rxb8+,Qxb8,e4,Qb4,exf5,Bxf5,Bxf5,gxf5,Ne3,Nb6,Nxf5,Nbxc4,Nxe7+,Kf8,Qxh7,Qxd2', 'Ng6+,Ke8,Qe7#', 'https://lichess.org/training/9ynPi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9ynyi', 'Classical', 'taratinadorsa', 1625, 'qwestnv', 1831, 'Nf3,e6,e4,d5,e5,c5,c4,Nc6,cxd5,exd5,Bb5,Bd7,Qa4,Qc7,Nc3,Nge7,O-O,g6,d3,Bg7,Bf4,Qb6,Bg5,a6,Bxc6,Bxc6,Qd1,Qc7,Bf6,O-O,Bxg7,Kxg7,d4,cxd4,Qxd4,Nf5,Qg4,Rad8,Rad1,Qb6,Rd2,d4,Ne4,Bxe4,Qxe4,Rfe8,g4,Nh6,Ng5,Qc7,e6,f6,e7,Rxe7,Ne6+,Rxe6,Qxe6,f5,Re1,Rd7,gxf5,Nxf5,Qe5+,Qxe5,Rxe5,Nh4,Rd3,Rc7,h3,Rc1+,Kh2,Rc2,Kg3,Nf5+,Kg2,Rxb2,Rd5', 'Ne3+,Kf3,Nxd5', 'https://lichess.org/training/9ynyi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Yo9O', 'Rapid', 'Suntzumade', 1782, 'Pepe_xan', 1784, 'd4,e5,dxe5,Nc6,Bf4,Qe7,Nf3,Qb4+,Nbd2,Qxf4,e3,Qb4,Bc4,Nge7,Ng5,Nxe5,c3,Qc5,b4,Nd3+,Bxd3,Qxg5,O-O,Nc6,Nf3,Qh6,Qb3,Be7,b5,Na5,Qa4,b6,Be4,Rb8,Nd4,O-O,Nf5,Qe6,Bc2,Bf6,Qf4,Bxc3,Rac1,Be5,Qh4,Qf6', 'Ne7+,Kh8,Qxh7#', 'https://lichess.org/training/9Yo9O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9yOpS', 'Blitz', 'Josbossen', 2225, 'talsfan', 2120, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,exd6,cxd6,Nc3,g6,Nf3,Bg7,Be3,O-O,Be2,Nc6,O-O,Bg4,h3,Bxf3,Bxf3,Nxc4,Qb3,Nxe3,fxe3,Qd7,Rac1,Rfc8,Bxc6,Rxc6,Qxf7+,Kh8,Nd5,Re8,Nb4,Rxc1,Rxc1,Qd8,Nd5,e6,Rc7,Rg8,Ne7,Rf8', 'Nxg6+,hxg6,Qxg7#', 'https://lichess.org/training/9yOpS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9yrSR', 'Rapid', 'MehdiSk', 1887, 'viktor707', 1935, 'd4,Nf6,Nc3,g6,e4,d6,f4,Bg7,b3,O-O,Bb2,c5,Nf3,Bg4,Be2,Nc6,dxc5,dxc5,e5,Ne8,O-O,Nc7,Ne4,b6,h3,Bxf3,Bxf3,Nd4,Bxd4,cxd4,Nf2,Rc8,Bb7,Rb8,Bc6,Na6,Nd3,Qc7,Be4,e6,g4,Rbc8,Rf2,Nc5,Nxc5,Qxc5,Bd3,Rfd8,a4,Bh6,g5,Bf8,h4,Be7,h5,Kg7,h6+,Kg8,Qd2,Rc7,Rb1,a5,Bc4,Qc6,Qd3,Rcd7,Bb5,Qd5,Bxd7,Rxd7,Rd1,Bb4,Kh2,Bc3,Re2,Rd8,Re4,Kf8,Kg3,Ke7,Qa6,Qc5,Rd3,Rd7,Re2,Qd5,Qxb6,Qh1,Qc5+,Ke8,Qc8+,Ke7,Qc5+,Ke8,Rg2', 'Be1+,Rf2,Qg1+', 'https://lichess.org/training/9yrSR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9yVkV', 'Rapid', 'Roman_Grigorjev', 1740, 'Disculpameporfavor', 1704, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Nf6,d3,Bb4,Bd2,O-O,O-O,Re8,a3,Bxc3,Bxc3,d6,Bd2,Bg4,h3,Bh5,Be3,a6,g4,Nxg4,hxg4,Bxg4,Kg2,Qf6,c3,Ne7,d4,Ng6,Be2,Bxf3+,Bxf3,Nh4+,Kg3,exd4,Bxd4,Qg5+,Kh3,Ng6,Rg1', 'Nf4+,Kh2,Qh4#', 'https://lichess.org/training/9yVkV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9yWS3', 'Rapid', 'Granex', 1823, 'Mrsmart11', 1814, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,Be2,Be7,O-O,h6,Bh4,O-O,Nf3,Nc6,a3,Ne5,Ne1,b5,Nd3,Bb7,Nxe5,dxe5,Bd3,Nd7,Bxe7,Qxe7,f4,Nc5,fxe5,Nxd3,cxd3,Rad8,Qd2,a5,Nxb5', 'Qc5+,d4,Qxb5', 'https://lichess.org/training/9yWS3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Z1v8', 'Classical', 'millennium_falcon', 1753, 'Dekalend', 1737, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nxe5,Qd4,Nxf7,Qxe4+,Kf1,Kxf7,Nc3,Qg6,Qf3+,Nf6,Ne2,Bd6,Qb3+,Ke7,d3,Re8,Bf4,b5,Bxd6+,cxd6,Re1,Be6,Qc3,Kd7,Nd4,Bd5,f3,Rxe1+,Qxe1,Re8,Qa5,c5,Nb3,Ra8,Kf2,c4,Nc1,Qf5,h3,cxd3,Nxd3,Bc4,Rd1,Ne4+,Kg1,Nc5,Qb6,Rc8,Nxc5+,Qxc5+,Qxc5,Rxc5,b3,Be6,Rd2,Rd5,Re2,Rd1+,Kh2,Ra1,c3,Rc1,Re3,Rc2,a4,Bxb3,axb5,axb5,Kg3,Bc4,h4,Re2,Kf4,Rxe3,Kxe3,h5,Kf4,Ke7,Kg5,Bf7,Kf5,g6+,Ke4,Ke6,Kd4,d5,Kc5,Be8,Kd4,Kd6,g4,hxg4,fxg4,Bd7,h5,Bxg4', 'h6,Ke6,h7', 'https://lichess.org/training/9Z1v8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9z25B', 'Rapid', 'PeaPuffin', 1812, 'Vwbuscamdust', 1800, 'e4,e5,Nf3,d6,Bc4,Be7,O-O,Nc6,Re1,Bg4,h3,Bh5,c3,Nf6,d4,O-O,Qd3,a6,Nbd2,Rb8,a4,Na5,Ba2,Nc6,Nh2,exd4,cxd4,Nb4,Qg3,Nc2,Ndf3,Bxf3,Nxf3,Nxa1,Bh6,g6,Bxf8,Qxf8,Rxa1,Nxe4,Qf4,Nf6,h4,Nh5,Qe4,Bf6,Re1,c6,d5,Bxb2,dxc6,bxc6,Qxc6,Rc8,Qxa6,Rc1,Rxc1,Bxc1,Qc4,Ba3,Ng5,Kg7,Qc3+,Nf6,Qxa3,Qe8,Kf1,d5,a5,Qb5+,Kg1,Qe2,Qc3,h6,Nf3,Qxa2,Nd2,d4,Qxd4,Qxa5,Ne4', 'Qe1+,Kh2,Qxe4,Qxe4,Nxe4', 'https://lichess.org/training/9z25B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Z3q6', 'Rapid', 'sureshksharma', 1952, 'CrapCrusher', 1943, 'd4,e6,e3,d5,Bd3,Nf6,Nd2,Bd6,c3,O-O,Ngf3,Bd7,Nf1,c5,Qc2,h6,Ng3,Nc6,Bd2,cxd4,exd4,Rc8,Qb1,Qc7,a3,e5,dxe5,Nxe5,Be2,Ne4,Nxe4,dxe4,Qxe4,Bc6,Qh4,Nxf3+,gxf3,Rce8,Bxh6,Bxf3,O-O-O,Re4,Qg5,Rg4,Qd2,Bxe2,Qxd6,Qc4,Rd4', 'Rxd4,Qxd4,Qxd4,cxd4,gxh6', 'https://lichess.org/training/9Z3q6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9zaOl', 'Rapid', 'Cavalier00', 1799, 'Mohammedt', 1865, 'e4,c5,Bc4,e6,e5,Qg5,d4,Qxg2,Qf3,Qg6,Bd3,f5,exf6,Qxf6,dxc5,Bxc5', 'Qh5+,Qf7,Qxc5', 'https://lichess.org/training/9zaOl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9ZcY8', 'Rapid', 'paulogaspar', 1744, 'GMMaironGontijo', 1885, 'e4,Nc6,d4,d5,exd5,Qxd5,Nf3,Bg4,Be2,e6,c4,Qa5+,Bd2,Qh5,d5,exd5,cxd5,Nce7,d6,cxd6,Nc3,Nf6,Nb5,Ned5,Nc7+,Nxc7,O-O,d5,Re1,Bd6,Bb5+,Kd8,Ba4,Bxf3,Qxf3,Qxh2+,Kf1,Qh1+,Ke2,b5,Bc2,Re8+,Kd3,Rxe1,Rxe1,Qh4,Ke2,Kd7,Bf5+,Kd8,Kd1,Qa4+,Bc2,Qxa2,Qc3,Rc8,Qc6,Be7,Rxe7,Qa1+,Ke2,Kxe7', 'Bb4+,Kd8,Qd6+,Nd7,Qe7#', 'https://lichess.org/training/9ZcY8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9ZFDs', 'Blitz', 'philforce', 1867, 'chessvy', 1729, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Nf3,Bg4,Be2,e6,O-O,Bd6,Be3,Qh5,Nb5,Bxh2+,Nxh2,Bxe2,Qd2,Bxb5,Rfc1,Ne4,Qb4,Bc6,Nf3,Nd7,c4,a5,Qa3,Ndf6,Ne5,Ng4,Bf4,Nxe5,Bxe5,f6,Bh2,Qe2,Rf1,Nd2,Rae1,Qg4,Bg3,Nxf1,Kxf1,Qxd4,Rxe6+,Kd8', 'Qe7+,Kc8,Qxc7#', 'https://lichess.org/training/9ZFDs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9zgck', 'Classical', 'sagjazuchess', 1689, 'EgorPlotnikov', 1664, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bc5,h3,h6,d3,d6,Nd5,Nxd5,Bxd5,O-O,Be3,Bxe3,fxe3,Be6,Qd2,Bxd5,exd5,Ne7,e4,c6,dxc6,bxc6,O-O,Qb6+,Kh1,Qxb2,a4,a5', 'Rfb1,Qxa1,Rxa1', 'https://lichess.org/training/9zgck');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9zgmE', 'Blitz', 'dark411', 1937, 'NM mrcorbat', 2019, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Qe2,Nxe4,Qxe4,Nd7,c3,Nf6,Qc2,Qc7,Nf3,Bg4,Be2,e6,h3,Bh5,Be3,Bd6,O-O,O-O,a4,Nd5,Qd2,Nxe3,Qxe3,Bg6,Nh4,Bh2+,Kh1,Bf4,Qf3,e5,Nxg6,fxg6,Qe4,exd4,Qxd4,Rad8,Qc4+,Kh8,Bf3,Qb6,b4,Bb8,a5', 'Qc7,g3,Rxf3', 'https://lichess.org/training/9zgmE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9Zhk5', 'Rapid', 'ata121', 1622, 'xavi2121', 1606, 'e4,c5,d3,d6,Be3,Nc6,Nf3,Nf6,Be2,Bg4,h3,Bxf3,Bxf3,e6,Nc3,a6,g4,h6,Qd2,Be7,O-O-O,O-O,h4,Ne5,Be2,Nexg4,Rdg1,Ne5,Bxh6,Ng6,Rxg6,fxg6,Bf4,Nd7,Rg1,Bxh4,Rxg6,Ne5,Bxe5,dxe5,Bg4,Rxf2,Bxe6+,Kh8', 'Rh6+,gxh6,Qxh6#', 'https://lichess.org/training/9Zhk5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9zirK', 'Rapid', 'Lion1357', 1948, 'beks3335', 2036, 'e4,e5,Nc3,Bc5,Bc4,d6,d3,a6,Be3,Bxe3,fxe3,Qh4+,g3,Qg5,Qf3,Nf6,Nd5,Bg4,Qf2,Kd7,Nf3,Bxf3,Qxf3,Nc6,O-O,Nxd5,Qxf7+,Nde7', 'Be6+,Kd8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/9zirK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9ZJYT', 'Blitz', 'rohitjpillai', 1919, 'dkillian', 1881, 'd4,f5,Nc3,Nf6,Bg5,h6,Bh4,g5,e4,fxe4,Nxe4,gxh4,Nxf6+,exf6,Qh5+,Ke7,O-O-O,d5,Re1+,Be6,Bd3,Kd7,Bf5,Bxf5,Qxf5+,Kc6,Re6+,Bd6,Rxf6,Nd7,Re6,Qf8,Qd3,b6,Qa6,Nb8,Qa4+,Kb7,Nf3,Qf5,Rhe1,Nc6,a3,a6,b4,b5,Qb3,Bxh2,Nxh2,Qf4+,Kb1,Qxh2,Qxd5,Rad8,Qxc6+,Kc8,Qxa6+,Kb8,Qxb5+,Kc8,Re7,Qd6,R1e6,Qxd4,Qa6+,Kb8,Qb5+,Kc8,Qa6+,Kb8,b5,Qd1+,Kb2,Qd4+,Ka2,Qc4+,Kb2,Qd4+,c3,Qd2+,Kb3,Qd5+,c4,Qd3+,Kb4,Qd2+,Kc5,Qd4+,Kb4,Qd2+,Kb3,Rd3+,Ka4,Qc2+,Kb4,Qb3+,Kc5,Qxa3+,Kc6', 'Rd6+,Rxd6,Qxd6#', 'https://lichess.org/training/9ZJYT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9ZmU8', 'Rapid', 'Banga', 1844, 'TimeTravel_00', 1897, 'd4,d5,c4,e5,dxe5,d4,Nf3,Nc6,e3,Bb4+,Bd2,dxe3,fxe3,Bg4,Be2,Nge7,O-O,Ng6,Bxb4,Nxb4,Qa4+,Nc6,Nd4,Bxe2,Nxe2,Nxe5,b3,O-O,Nbc3,Qd2,Rad1,Qxe3+,Kh1,Ng4,Rf3,Qe5,Ng3,Rad8,Rdf1,Rd2,c5,Nf6,b4,Nd4,R3f2,Qe3,Rxd2,Qxd2,Nce4,Nxe4,Nxe4,Qe2,Ng3,Qc4,Qxa7,Re8,Qxb7,Nf5,Qc6', 'Nxg3+,hxg3,Qxf1+', 'https://lichess.org/training/9ZmU8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9zPAF', 'Rapid', 'Mysterius-Deepak', 1647, 'Asigno', 1630, 'c3,e5,e4,Nf6,d3,Nc6,Be2,Bc5,g4,d6,g5,Ng8,h4,f6,Bh5+,g6,Be2,Nce7,gxf6,Nxf6,Bh6,Neg8', 'Bg7,Qe7,Bxh8', 'https://lichess.org/training/9zPAF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9ZQta', 'Rapid', 'Aslan-2020', 1906, 'combinmate', 1836, 'e4,e5,f4,Nc6,Nf3,Bc5,d3,d6,Be2,f5,c3,Nf6,d4,exd4,cxd4,Bb6,O-O,Nxe4,Nc3,Qf6,Kh1,Nxd4,Nd5,Qf7,Nxb6,Nxf3,Nxa8', 'Ng3+,hxg3,Qh5#', 'https://lichess.org/training/9ZQta');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9zwzb', 'Classical', 'boldaji175', 1924, 'Qollack', 1892, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,b5,a3,Bb7,f3,Nbd7,Be2,Rc8,O-O,e6,Bg5,Ne5,Bxf6,gxf6,f4,Nc4,Bxc4,Rxc4,f5,Qb6,fxe6,Rxd4,exf7+,Kd8,Qf3,Rxe4+,Kh1,Re7,Qxf6,Qc6,Rf2,h5,Qxh8,Rxf7,Raf1', 'Qxg2+,Rxg2,Rxf1#', 'https://lichess.org/training/9zwzb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9ZXCe', 'Rapid', 'Laza22', 1730, 'Max-4141', 2286, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bd3,Be7,O-O,Nc6,c3,Bg4,Nbd2,h6,Qc2,Qd7,a3,O-O-O,b4,g5,Re1,Bd6,b5,Ne7,Qa4,Kb8,c4,Ng6,c5,Bf4,c6,Qd6,cxb7,Nh4,Ne5,Bxh2+,Kxh2,Nd7,g3,Nxe5,dxe5,Qc5,Qxg4', 'Qxf2+,Kh3,Qg2#', 'https://lichess.org/training/9ZXCe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9zxVZ', 'Blitz', 'Rajat_18', 1517, 'Glades11', 1543, 'e4,b6,Bc4,Bb7,d3,a6,a4,d6,Nc3,Nd7,Qf3,e6,d4,g6,h4,Bg7,Nge2,h6,O-O,Ngf6,d5,e5,g4,b5,axb5,axb5,Rxa8,Qxa8,Bxb5,O-O,g5,hxg5,Bxg5,Nh5,Bxd7,f6,Be6+,Kh8,Be3,Re8,Bf7,Re7,Bxg6,Nf4,Bxf4,exf4,Qh5+,Kg8,Qh7+,Kf8,Nxf4,Bc8,Nh5,Bh3,Re1,Qc8,Nxg7', 'Qg4+,Kh2,Qg2#', 'https://lichess.org/training/9zxVZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9ZY5B', 'Rapid', 'elf_stea1th', 2095, 'withoutTroble', 1950, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nxc6,bxc6,Nc3,Bg7,f4,d6,Bd3,Qb6,Na4,Qa5+,c3,Ba6', 'b4,Qc7,Bxa6', 'https://lichess.org/training/9ZY5B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9zZ1o', 'Classical', 'kiril561', 1830, 'W_JU', 1667, 'd4,b6,Bg5,Bb7,e3,d6,c4,Nd7,h3,h6,Bh4,Ngf6,Nc3,e5,d5,Be7,Be2,Nxd5,Bxe7,Nxc3,Bxd8,Nxd1,Bxc7,Nxb2,Bxd6,Bxg2,Rh2,Be4,Nf3,Bxf3,Bxf3,Rc8,Rb1,Nxc4,Bb4,a5,Bd2,O-O,Bg4,Rfd8,Rc1,Rc5,Ke2,Nf6,Be1,e4,f4,Rd3,Rc3,Rxc3,Bxc3,Nxg4,hxg4,Na3,Bd2,Rc2,Kd1,Rxa2,Rh5,Nc4,Bc1,Ra1,Rh3,a4,Kc2,b5,Rh5,Ra2+,Kc3,Nd6,Rd5,Ne8,Rxb5,Nf6,g5,hxg5,Rxg5,Ra1,Bb2,Re1', 'Kd2,Rh1,Bxf6', 'https://lichess.org/training/9zZ1o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9zz7u', 'Blitz', 'aticia', 2041, 'Tzonunsanga', 2082, 'e4,e5,Nf3,f5,d3,Nc6,Nc3,Bb4,Bd2,Nf6,a3,Bxc3,Bxc3,d6,Nd2,O-O,f3,Nh5,Qe2,a5,O-O-O,b5,b3,b4,axb4,axb4,Bb2,Be6,g3,Nd4,Qf2,c5,exf5,Bxf5,Qe3,Nf6,Qg5,Qa5,Nc4,Qa2,Nxd6,Nd5,Bxd4,cxd4,Nxf5,Rxf5,Qxf5,Ne3,Qe6+,Kh8,Qc6', 'Qa1+,Kd2,Qxd1#', 'https://lichess.org/training/9zz7u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('9ZzKN', 'Rapid', 'LjMikic', 1963, 'scurly', 2117, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f4,c5,e5,dxe5,dxe5,Nfd7,Nf3,O-O,Be2,Nc6,Be3,e6,O-O,a6,Ne4,b6,Nd6,Nb4,a3,Nc6,Ng5,h6,Nge4,Qc7,Bf3,Bb7,Nxb7,Qxb7,Nd6,Qc7,b4,Rad8,Qa4,cxb4,Bxc6,Nc5,Bxc5,bxc5,axb4,Rxd6,exd6,Qxd6,Rad1,Qc7,bxc5,Rc8,Bf3,Qxc5+,Kh1,a5,Qb5,Qxc4,Qxc4,Rxc4,g3,a4,Rd3,Bb2,Rd8+,Kg7,Ra8,a3,Kg2,Bd4,g4,Rc2+,Kg3,a2,f5,exf5,gxf5,Be5+,Kg4,a1=Q,Raxa1,h5+,Kh4', 'Rxh2+,Kg5,f6#', 'https://lichess.org/training/9ZzKN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A00Iy', 'Rapid', 'Goibniu', 1967, 'Cyls', 1970, 'e4,c5,Nf3,a6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nf3,Nc6,Bc4,Bb4,Bd2,O-O,O-O,d6,h3,Bxc3,Bxc3,Nxe4,Qd3,Nxc3,Qxc3,Be6,Rad1,Bxc4,Qxc4,Qe7,Rd5,Rac8,c3,Nd4,Qb4,Nxf3+,gxf3,Rc6,Kh2,b5,Qe4,f5,Qe3,f4,Qe4,Rc4,Qd3,Rd8,Rd1,Rc6,b3,g6,c4,bxc4,bxc4,Kf7,c5,Rxc5', 'Rxc5,dxc5,Qxd8,Qxd8,Rxd8', 'https://lichess.org/training/A00Iy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A02Q9', 'Blitz', 'efdalt', 2228, 'IM dozer01', 2555, 'Nf3,c5,d4,Nc6,d5,Nb8,c4,d6,Nc3,g6,Bg5,Bg7,Qc2,Nd7,e4,Ngf6,Bd3,O-O,O-O,h6,Bh4,Nh5,Rfe1,Ne5,Rad1,Nxf3+,gxf3,Be5,Bg3,Nf4,Ne2,g5,Qd2,Nh3+,Kg2,f5,Bxe5,dxe5,exf5,Nf4+,Nxf4,exf4,Qc2,Bd7,Re5,Rf7,Rde1,Qf8,a3,Re8,b4,cxb4,axb4,Qg7,c5,g4,Rg1,Kh8,Qe2', 'gxf3+,Kxf3,Qxg1', 'https://lichess.org/training/A02Q9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a04el', 'Blitz', 'framgl', 2171, 'karyptos', 2077, 'Nf3,g6,d4,b6,c4,Bb7,Nc3,d6,e4,Bg7,Bg5,h6,Be3,Nd7,Bd3,c5,d5,Ne5,Nxe5,Bxe5,f4,Bg7,O-O,Bc8,Qf3,h5,e5,Nh6,e6,f5,Qg3,Ng4,h3,Nxe3', 'Qxg6+,Kf8,Qf7#', 'https://lichess.org/training/a04el');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a04jp', 'Classical', 'Sevan-94', 1713, 'mendthegown', 1821, 'e4,e6,Nc3,d5,exd5,exd5,d4,Nf6,Bd3,c5,Qe2+,Qe7,Bg5,Qxe2+,Ngxe2,c4,Bxc4,dxc4,Bxf6,gxf6,Nd5,Bd6,Nxf6+,Kf8,O-O-O,Bf5,f3,Nd7,Nd5,Kg7,g4,Be6,Ndc3,Nb6,a3,Nd5,Ne4,Bc7,h4,Bf4+,Kb1,Rhe8,h5,Kf8,Nxf4,Nxf4,Nd6,Re7,g5,Rd8,Ne4,Nd5,Kc1,Bf5,Ng3,Bd7,g6,fxg6,hxg6,Nf6,f4,hxg6,Rh8+,Ng8,Rh6,Kf7,Rh2,Rde8,Rf2,Re1,f5,gxf5,Nxf5,Bxf5,Rxf5+,Kg6,Rc5,Rxd1+,Kxd1,Rd8,Rxc4,b6,c3,Nf6,Rc7,Rd7,Rc6,Kf5,Kc2,Nd5,Rh6,Rg7,Rh5+,Ke4', 'Re5+,Kf4,Rxd5', 'https://lichess.org/training/a04jp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a05PW', 'Rapid', 'Kalednik', 1772, 'Maskenbild', 1781, 'e4,c5,Nf3,Nc6,Bc4,e6,d4,cxd4,Nxd4,d5,exd5,exd5,Qe2+,Be7,Bb5,Bd7,c3,Nf6,Bg5,O-O,O-O,Re8,Bd3,Nxd4,cxd4,Rc8,Nc3,Bb4,Bxf6,Qxf6,Qf3,Qxf3,gxf3,Bxc3,bxc3,b6,Rfc1,Rc7,Ba6,Bc8,Re1,Rxe1+,Rxe1,Be6,f4,g6,Rc1,Re7,Kg2,Kg7,a4,Re8,Bb5,Rd8,Rc2,Bd7,Bxd7,Rxd7,c4,dxc4,Rxc4,f5,Kg3,Re7,d5,Rd7,Rd4,Kf6,Kf3,Ke7,Ke3,Kd6,Kd3,Rc7,h4,Rc1,Rc4,Rh1,Kd4,Rxh4,Rc6+,Kd7,Ke5,Rh2,Rd6+,Kc7,Ke6,Rxf2,Rd7+,Kc8,Rxa7,Rxf4,d6,Re4+,Kd5,Re1,d7+,Kd8,Kc6,Rd1', 'Ra8+,Ke7,Re8+', 'https://lichess.org/training/a05PW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A097Q', 'Rapid', 'MaciKamil', 1864, 'reskyprayoga', 1908, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Nbd7,Nf3,Be7,e3,c6,Bd3,h6,Bh4,Nb6,b3,O-O,O-O,dxc4,bxc4,c5,Qe2,Bd7,Rfd1,Bc6,dxc5,Nbd7,Ne5,Qc7,Nxd7,Bxd7,Rac1,Qxc5,Bxf6,Bxf6,Ne4,Qe7,Nxf6+,Qxf6,Bh7+,Kxh7,Rxd7,b6,Rcd1,Rfd8', 'Qd3+,g6,Rxd8,Rxd8,Qxd8', 'https://lichess.org/training/A097Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A0Bk6', 'Rapid', 'jerryandamy', 1643, 'Fraaxl', 1643, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Be2,Nc6,Nf3,Qd6,Nb5,Qd7,d4,Nf6,O-O,e6,a3,a6,Nc3,Nd5,Ne5,Nxc3,bxc3,Nxe5,dxe5,Qc6,f4,Bc5+,Kh1,f6,Bf3,Qa4,Bd2,fxe5,fxe5,O-O,Bg5,Rf5,Bh4,Qxh4,g3,Qc4,Qd8+,Rf8,Qxc7,Qxc3,Bxb7,Rxf1+,Rxf1,Bxb7+,Qxb7,Rf8,Rxf8+,Kxf8,Qc8+,Kf7,Qd7+,Kg6,Qxe6+,Kg5', 'h4+,Kh5,Qf5+,g5,Qxg5#', 'https://lichess.org/training/A0Bk6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a0Bo9', 'Rapid', 'kjendra', 1612, 'evanpassant', 1785, 'e4,e5,Nf3,f5,exf5,e4,Ng1,Nf6,Bc4,d5,Be2,Bxf5,Bh5+,g6,Be2,Bc5,h3,Nc6,c3,Qe7,Bb5,a6,Bxc6+,bxc6,Ne2,Qe5,O-O,Bd6,Ng3,O-O,d4,exd3,Re1,Ne4,Nd2,Bc5,Ndxe4,dxe4,Nxf5,Rxf5,Be3,Bd6,g3,Raf8,Qb3+,Kg7', 'Bd4,Qxd4,cxd4', 'https://lichess.org/training/a0Bo9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A0c8t', 'Rapid', 'AnomanderRake30', 1911, 'Akaihige', 1929, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,Bg5,h6,Bd2,O-O,h3,a6,a3,b5,Ba2,Re8,Nc3,Nd4,Nd5,Nxd5,Bxd5,Rb8,Nxd4,exd4,Qg4,d6,Qg3,Qf6,O-O-O,b4,a4,b3,c3,Be6,Rhf1,Bxd5,exd5,Re2,c4,Bb4,Qg4,Rbe8,Bxb4,Rxf2,Rde1', 'Rxf1,Rxf1,Qxf1+', 'https://lichess.org/training/A0c8t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A0cmp', 'Rapid', 'garrysassparov', 1629, 'AxelSinue', 1711, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,Nxc6,Nc3,Bd7,O-O,a6,Ba4,b5,Bb3,Be6,Nxe6,fxe6,Bxe6,Qd6,Bb3,Na5,Re1,Nxb3,axb3,Be7,d3,O-O,Ne4,Nxe4,Rxe4,Qf6,Be3,Bd6,Qd2,Rf7,c4,bxc4,bxc4,Bc7,b4,Rff8,c5,Kh8,d4,Qg6,Rh4,exd4,Bxd4,Rae8,g3,Bd8,Rf4,h5,Rxf8+,Rxf8,Qe2,Re8,Rxa6', 'Qb1+,Qf1,Re1,Qxe1,Qxe1+', 'https://lichess.org/training/A0cmp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a0EcZ', 'Rapid', 'SubarTo', 1602, 'rodi990', 1684, 'Nf3,Nc6,Nc3,e5,e4,Nf6,Bc4,Bc5,d3,h6,a3,O-O,b4,Bb6,a4,Nxb4,a5,Bd4,Bd2,Nc6,Ra4,a6,Bd5,Bxc3,Bxc3,d6,Bxc6,bxc6,Rc4,c5,Bd2,Bg4,O-O,Nd7,h3,Bh5,Qe2,f5,Qe3,fxe4,dxe4,Bxf3,gxf3,Kh8,f4,exf4,Qf3,Ne5,Qg2,Nxc4,Bc3,Ne5,Rd1,Rf6,Kf1,Rg6,Qh2,Nf3,Qxf4,Rg1+,Ke2,Rxd1', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/a0EcZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A0jQW', 'Classical', 'Tabutcuking42', 1683, 'cooldeep', 1702, 'e4,e5,b3,Bc5,Bb2,Qf6,Nf3,d6,d4,exd4,Nxd4,Nc6,Bb5,Ne7,O-O,O-O', 'Nxc6,Qxb2,Nxe7+', 'https://lichess.org/training/A0jQW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A0lAN', 'Blitz', 'FM MrBini', 2353, 'Smoky1', 2384, 'd4,Nf6,c4,c5,d5,e6,Nc3,exd5,cxd5,g6,e4,d6,Nge2,Bg7,Ng3,h5,Bg5,h4,Nge2,h3,g3,Bg4,Qd3,c4,Qxc4,Nbd7,Nd4,Ne5,Qa4+,Kf8,Be2,Bxe2,Kxe2,Qc8,f3,a6,Be3,b5,Qb4,Kg8,b3,a5,Qxd6,Qxc3,Qxe5,Ng4,Qf4,Qb2+,Bd2,Bxd4,Qxg4,Bc3,Rhd1', 'Bxd2,Rxd2,Qxa1', 'https://lichess.org/training/A0lAN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A0nsM', 'Classical', 'kheary11', 1862, 'a_r1385', 1803, 'e4,c5,Nf3,d6,c3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,Re1,Nc6,d4,cxd4,cxd4,Bg4,d5,Ne5,Nbd2,Nfd7,h3,Bxf3,Nxf3,Nxf3+,Bxf3,Rc8,Be3,Qa5,Re2,a6,a3,Ne5,b4,Qd8,Bg2,Nc4,Bd4,Qc7,Bxg7,Kxg7,Rc1,b5,f4,Qb6+,Kh2,Nxa3', 'Rxc8,Rxc8,Qa1+,Kg8,Qxa3', 'https://lichess.org/training/A0nsM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A0O89', 'Rapid', 'YAHYAAAAB', 1876, 'ziomki6', 2127, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,e5,Qa5+,Nc3,Qxe5+,Be3,a6,Nf3,Qc7,Bd3,d5,O-O,Bd6,Bd4,e5,Bxe5,Bxe5,Nxe5,Qxe5', 'Re1,Qxe1+,Qxe1+', 'https://lichess.org/training/A0O89');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A0o9q', 'Rapid', 'DeadShotik803', 1802, 'ihsan2040', 1860, 'e4,b6,Nf3,Bb7,Nc3,e5,d4,exd4,Qxd4,Nc6,Qe3,Bc5,Qe2,Nf6,Be3,Bb4,Qd2,Nxe4,Qe2,Nxc3,bxc3,Bxc3+', 'Bd2+,Be5,Nxe5', 'https://lichess.org/training/A0o9q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A0q03', 'Classical', 'throkster', 2042, 'iskatel_7', 1982, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Bb4,Qc2,Nc6,a3,Nxd4,Qd1,Bxc3+,bxc3,Nc6,Nf3,Nge7,g3,Bf5,Bg2,Be4,O-O,O-O,Qb3,Rb8,Rd1,Na5,Qa4,c6,Bf4,Ra8,Qb4,b6,Nd2,c5,Qb5,Bxg2,Kxg2,Ng6,Be3,Qf6,Bxc5,Rfe8,Bd4,Qe6,e3,h5,Re1,h4,e4,h3+,Kf1,Red8,exd5,Qxd5', 'Re8+,Rxe8,Qxd5', 'https://lichess.org/training/A0q03');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a0QHa', 'Rapid', 'riki2', 1699, 'ImprovingChess', 1665, 'd4,Nf6,e3,e6,a3,c5,dxc5,Bxc5,b4,Bb6,Bb2,a5,b5,a4,Nf3,Qc7,Bxf6,gxf6,Bd3,Ba5+,Nbd2,d5,O-O,h5,c4,h4,h3,e5,cxd5,Rg8,Nxh4,Bxh3,Qf3,Bxd2,Qxh3,Qd6,Be4,Nd7,Nf5,Qb6,Qh7,O-O-O,Ne7+,Kb8,Nxg8,Bxe3,fxe3,Qxe3+,Kh1,Ka7,Qh6,Qxe4,Ne7,Re8,Rfe1,Qd3,Red1,Qxb5,Qe3+,Ka8,d6,Rh8+,Kg1,e4,Rab1,Qh5,Qh3', 'Qc5+', 'https://lichess.org/training/a0QHa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a0Qn7', 'Blitz', 'UWend', 2170, 'WFM leafbewildered', 2268, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,Bd3,Bg4,O-O,e6,c3,Bd6,Qe2,Nge7,Bg5,Qc7,h3,Bh5,Bxe7,Qxe7,Nbd2,O-O,Rae1,a6,Qe3,b5,Kh1,Rab8,Ne5,Rfc8,f4,Bg6,f5,exf5,Bxf5,Bxf5,Rxf5,Nxe5,dxe5,Bc5,Qf3,d4,Ne4,dxc3,bxc3,b4,Rf1,bxc3,Rxf7,Qxe5,Qg4,Rf8,Rxf8+,Rxf8,Rxf8+,Bxf8,Qe2,Bd6,Kg1,Qh2+,Kf2,Qf4+,Kg1,Be5,Qc4+,Qf7', 'Qc8+,Qf8,Qe6+', 'https://lichess.org/training/a0Qn7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A0R8c', 'Rapid', 'JBowie', 1833, 'viktor-petrov', 1829, 'Nf3,g6,d4,Bg7,e3,d5,c4,Nf6,Nc3,c6,cxd5,cxd5,Bb5+,Bd7,Bxd7+,Nbxd7,Qb3,b6,Nxd5,Nxd5,Qxd5,O-O,Qb3,Re8,O-O,e5,dxe5,Nxe5,Nxe5,Bxe5,Rb1,a5,Qd1,Qf6,b3,a4,bxa4,Ra5,Qb3,Bxh2+,Kxh2,Rh5+,Kg1,Qh4,f3,Qh1+,Kf2,Qh4+,Ke2,Rg5,Rf2,Rc5,Bd2,Rd8,Rc1', 'Rxd2+,Kxd2,Qxf2+,Kd3,Rxc1', 'https://lichess.org/training/A0R8c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A0raq', 'Rapid', 'niki2', 1806, 'Aldo_Velaj', 1763, 'd4,e6,c4,g6,Nf3,Bg7,g3,Ne7,Bg2,O-O,O-O,b6,Ne5,Nbc6,Bg5,Rb8,Nxc6,dxc6,e3,Bb7,Nc3,h6,Bxe7,Qxe7,Qc2,c5,dxc5,Bxg2,Kxg2,Qxc5,b3,Qb4,Rac1,Bxc3,Qxc3,Qxc3,Rxc3,Rbd8,Rc2,Rd7,Rfc1,Rfd8,c5,Rd2,cxb6,Rxc2,bxc7,Rxc7,Rxc7,Ra8,b4,a5,b5,Rb8,a4,Kf8,Ra7,Ke8,Rxa5,Rb7,Ra6,Kd7,b6,Kc6,a5,Kb5,Ra7,Rb8,Rxf7,Kxa5,Rf6,Rxb6,Rxg6,h5,Rh6,Rb8,Rxe6,Rh8,h4,Kb5,Re5+,Kc6,f4,Kd6,Kf3,Kd7,f5,Kd6,Kf4,Rg8,e4', 'Rg4+,Ke3,Kxe5', 'https://lichess.org/training/A0raq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A0wik', 'Rapid', 'lumil', 2032, 'maciek1959', 1662, 'e4,c6,Bc4,e6,Nc3,d5,exd5,cxd5,Bb3,Nf6,d4,Nc6,a3,Bd7,Nf3,Bd6,h3,Bb8,Bg5,Qc7,Bh4,h6,Bg3,Qd8,Be5,Nxe5,dxe5,Ne4,Qd4,Nxc3,Qxc3,O-O,O-O,f6,exf6,Qxf6,Qxf6,Rxf6,Rfe1,Bd6,Ne5,Rd8,a4,Bc5,Re2,b5,Nxd7,Rxd7,axb5,Kf7,g3,d4,Rae1,d3,cxd3,Rxd3,Bxe6+,Kg6,Bc4,Rdf3,Kg2,h5,Rf1,Kg5,b3,h4,Re5+,Kh6,gxh4,Bxf2,Re2,Rg3+,Kh2,Rff3,Rfxf2,Rxh3+,Kg2', 'Rfg3+,Kf1,Rh1#', 'https://lichess.org/training/A0wik');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A0WTV', 'Rapid', 'Abhi0912', 1674, 'Gyoegy', 1989, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,b6,Nf3,Bb7,Bd3,Nc6,Bb5,a6,Bxc6+,Bxc6,Qe2,Qd5,Nc3,Qh5,d5,Bxd5,Nxd5,Qxd5,O-O,Bd6,Be3,Qh5,Qd3,Nf6,Bxb6,O-O,h3,Nd5,Bd4,c5,Be3,Rfd8,c4,Nf4,Bxf4,Bxf4,Qc2,g5,Rad1,f5,Rxd8+,Rxd8,Qe2,Kf7', 'Ne5+,Bxe5,Qxh5+', 'https://lichess.org/training/A0WTV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a0yyV', 'Blitz', 'GM Atomrod', 2525, 'IM Prettyfly', 2565, 'd4,Nf6,Nf3,g6,c4,Bg7,g3,O-O,Bg2,c6,O-O,d5,Nbd2,Bf5,b3,Ne4,Bb2,Nxd2,Qxd2,Be4,e3,Na6,Rac1,Nc7,Rfd1,a5,a3,e6,b4,axb4,axb4,Qe7,c5,Nb5,Ra1,g5,Ne5,Bxg2,Kxg2,f5,Bc3,f4,exf4,gxf4,Nf3,Rxa1,Rxa1,fxg3,hxg3,Qf6,Qd3,Bh6,Bb2,Bg7,Re1,Qh6,Bc1,Qh5,Rxe6,Qg4,Re7,h5,Bh6,Rxf3,Rxg7+', 'Qxg7,Qxf3,Qxh6', 'https://lichess.org/training/a0yyV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A11DK', 'Blitz', 'wvchess', 2223, 'akots', 2243, 'e4,c5,c3,d5,exd5,Qxd5,d4,Nf6,Nf3,cxd4,cxd4,e6,Nc3,Bb4,Be2,O-O,O-O,Bxc3,bxc3,b6,c4,Qd8,Ba3,Re8,Ne5,Bb7,Bf3,Qc8,Rc1,Nbd7,Re1,Bxf3,Qxf3,Qa6,Nc6,h6,Ne7+,Kh8,Nc6,Rac8,Re3,Qa4,d5,exd5,Rxe8+,Rxe8,cxd5,Nc5,h3,Nce4,d6,Nd2,Qd3,Nd7,Bb2,Ne4,Rc4,Qa6,Qe3,Nef6,Qc1,Qxa2,Ne7,Qa6,Rc7,Qd3,Rxd7,Nxd7', 'Qxh6+,Qh7,Bxg7#', 'https://lichess.org/training/A11DK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a18Bb', 'Rapid', 'XAEA12', 1646, 'Bryanito32', 1784, 'e4,c5,Nc3,a6,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bg5,e5,Nf3,Be7,Bc4,b5,Bb3,Bb7,Bxf6,gxf6,Bd5,Qc7,Bxb7,Qxb7,Nd5,Nd7,Nh4,Nb6,O-O,Nxd5,exd5,Qd7,f4,Rg8,Qh5,exf4,Rxf4,Qh3,Re1', 'Rxg2+,Nxg2,Qxh5', 'https://lichess.org/training/a18Bb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A18JC', 'Blitz', 'mtkt', 1779, 'King_Blunder', 1804, 'c4,c6,Nc3,d5,cxd5,cxd5,g3,Nc6,Bg2,Nf6,e3,g6,d4,Bg7,Nge2,a6,Kf1,Bf5,Nf4,e6,a3,h5,b4,g5,Nd3,h4,h3,hxg3,fxg3,Qc7,Kf2,Nxd4,Bb2,Nc6,Rc1,Nh5,Ne2,Bxb2,Nxb2,Qe5,g4,Qxb2,gxf5,O-O-O,Qa4,Kb8,Rc2,Qe5,Rhc1,Qxf5+,Kg1,Rc8,b5,Ne5,b6,Nc6,Nd4,Nxd4', 'Rxc8+,Rxc8,Rxc8+,Kxc8,Qe8#', 'https://lichess.org/training/A18JC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a1B1J', 'Blitz', 'benzemaa', 2038, 'sunnyoutside', 2020, 'd4,f5,c4,Nf6,Nc3,e6,g3,d5,cxd5,exd5,Bg2,c6,Nf3,Bd6,O-O,O-O,Ne5,Ne4,f4,Nd7,e3,Ndf6,a3,c5,Qc2,c4,b3,cxb3,Qxb3,Nxc3,Qxc3,b6,a4,Ne4,Qb3,Be6,Ba3,Rc8,Bxd6,Qxd6,Qd3,Rc3,Qe2,Rfc8,a5,Rc2,Qd3,R8c3,Qb5,Rxe3,Qe8+,Qf8,Qxe6+,Kh8,Nf7+,Kg8,Ng5+,Kh8,Nxe4,fxe4,Rac1,Rec3,Rxc2,Rxc2,axb6,axb6,Rb1,h6,Rxb6,Rc1+,Kf2,Rc2+,Ke3', 'Qa3+,Rb3,Qxb3#', 'https://lichess.org/training/a1B1J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A1Cbs', 'Classical', 'Veni_Vidi_Vicii', 1742, 'nonoQuadrat', 1755, 'e4,Nf6,e5,Nd5,c4,Nb6,a4,a5,c5,Nd5,Bc4,c6,Nf3,e6,O-O,Bxc5,d4,Be7,Bxd5,cxd5,Nc3,d6,Nb5,dxe5,Nxe5,Nc6,Bf4,O-O,Re1,Nxe5,dxe5,Bd7,Nd6,Bxd6,exd6,f6,h3,e5,Qxd5+,Kh8,Be3,Bc6,Qc5,Qd7,b3,Rfd8,Red1,Qe6,Rab1,Rd7,Rd3,Be4,Rbd1,Bxd3,Rxd3,Rad8,Qxa5,Rxd6', 'Qxd8+,Rxd8,Rxd8+', 'https://lichess.org/training/A1Cbs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A1cpI', 'Rapid', 'yury_kalinau', 1601, 'bk1p', 1742, 'e4,c5,Bc4,e6,Nf3,Nc6,c3,Nf6,d3,a6,Bg5,b5,Bb3,Qc7,h3,Bb7,Qd2,Be7,Bf4,d6,Qe3,h6,O-O,g5,Bh2,O-O-O,d4,c4,Bc2,e5,d5,Nb8,a4,Nbd7,axb5,axb5,Ra7,Nc5,Na3,Qb6,Nxb5,Qxb5,Rb1,g4,Nxe5,dxe5,Bxe5,gxh3,g3,Ng4,Qf4,Nxe5,Qxe5,Bd6,Qf5+,Qd7,e5,Bb8,Ra5,Nb3,Rb5,Qxf5,Bxf5+,Rd7', 'Bxd7+,Kxd7,Rxb7+', 'https://lichess.org/training/A1cpI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A1g1B', 'Rapid', 'frapalm1973', 1716, 'ArthurPsk', 1635, 'e4,e5,Nf3,Nc6,d4,Nxd4,Nxd4,exd4,Qxd4,Nf6,Bg5,Be7,e5,Ng8,Bf4,d6,Bc4,Be6,Bxe6,fxe6,exd6,cxd6,Qxg7,Qa5+,Nc3,O-O-O,Qxh8,Bf6,Qxh7,Bxc3+,Ke2,Bxb2,Rab1,Nf6,Qd3,Be5,Qc4+,Kb8,Bxe5,dxe5,Rhd1,Nd5,Rb3', 'Nf4+,Kf3,Rxd1', 'https://lichess.org/training/A1g1B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a1H7C', 'Rapid', 'curious201', 1680, 'TALdeipoveri', 1730, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,Bc5,Bg5,O-O,O-O,Be7,c3,d6,h3,Bb7,Nbd2,Nd7,Be3,Nc5,Bc2,Ne6,d4,exd4,cxd4,Ng5,Re1,Nb4,d5,Nxc2,Qxc2,Nxf3+,Nxf3,Re8,Nd4,Qd7,f4,Bf6,Rad1,Rac8,b3,Bxd4,Bxd4,c5,Ba1,Re7,e5,Rce8,Qb2,dxe5,fxe5,Bxd5,e6,fxe6,Qe5,Qc7,Re3,Qxe5,Rxe5,Rf7', 'Rdxd5,exd5,Rxe8+', 'https://lichess.org/training/a1H7C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A1I6M', 'Rapid', 'Farhan07', 1820, 'Slm_mhr', 1795, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,d6,d3,Bg4,h3,Bh5,Be3,Nd4,Bxd4,exd4,Na4,Qf6,Nxc5,dxc5,g4,Bg6,Qe2,Ne7,h4,Nc6,h5,O-O-O,hxg6,hxg6,Rxh8,Rxh8,O-O-O,Na5,e5,Qe7,Qe4,Nxc4,dxc4,Qe6,b3,Qa6,Qd5,Qxa2,Kd2,Qb2,Ke2,Qxc2+,Rd2,d3+,Ke3,Qxb3,Qxf7,Rd8,e6,Qxc4,Ne5,Qd4+,Kf3,Qxe5', 'e7,Qf6+,Qxf6', 'https://lichess.org/training/A1I6M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a1iJP', 'Rapid', 'Batista', 1754, 'samirpr95', 1734, 'e4,c6,Nf3,e6,d4,d5,exd5,exd5,Qe2+,Be7,Bg5,f6,Bd2,Bg4,Bc3,Na6,Nbd2,Nh6,O-O-O,O-O,h3,Bh5,Qd3,b5,a3,Qc7,Be2,Rad8,b4,Nb8,Bb2,a5,c3,Bg6,Qe3,axb4,axb4,Na6,g3,c5,Bd3,Nxb4,Bxg6,hxg6,cxb4', 'cxd4+,Kb1,dxe3', 'https://lichess.org/training/a1iJP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a1JoG', 'Classical', 'Nik-64', 1853, 'sivvaaa', 1885, 'e4,c5,Nf3,Nc6,c3,Nf6,d3,d5,e5,Nd7,d4,e6,Bg5,Qb6,b3,h6,Be3,cxd4,cxd4,Bb4+,Nfd2,Nxd4,Be2,O-O,O-O,Nxe2+,Qxe2,Qc7,Qg4,Qxe5,Qxb4,Qxa1,Nc3,Qb2,Nf3,Qc2,Ne2,Qxe2,Qg4,Nf6,Qg3,Kh7,Bd4,Nh5,Qg4,Nf6,Qg3,e5,Bxe5,Nh5,Qh4,g6,Re1,Qxe1+,Nxe1,Re8,Bc3,Bf5,g4,g5', 'Qxh5,Bg6,Qh3', 'https://lichess.org/training/a1JoG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A1lfD', 'Rapid', 'Obi-One_Kenobi', 1969, 'oleksandr1111', 1801, 'd4,e6,Nf3,Nf6,c4,c6,Nc3,d5,e3,Bb4,Bd2,O-O,Bd3,Nbd7,O-O,b6,Qe2,a5,e4,dxe4,Nxe4,Bxd2,Nxf6+,Nxf6,Qxd2,Qd6,Rad1,Ng4,Qg5,Nf6,Qh4,h6,Rfe1,Bb7,Ne5,c5,dxc5,Qxc5,Re3,Rad8,Rde1,Rd4,Qh3,Rfd8,Nxf7,Kxf7,Qxe6+,Kf8,Bg6,Qc7', 'Qe8+,Rxe8,Rxe8+,Nxe8,Rxe8#', 'https://lichess.org/training/A1lfD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A1MWy', 'Rapid', 'Malinpolen', 1837, 'vmedl', 1759, 'd4,d5,c4,e5,cxd5,e4,Nc3,Nf6,Qc2,Bf5,e3,Nbd7,Bb5,Bb4,Ne2,Nxd5,O-O,c6,Bc4,N7f6,a3,Bd6,Qb3,Qb6,Qa2,O-O,Nxd5,cxd5,Bxd5,Rad8,Qb3,Qc7,Nc3,Bxh2+,Kh1,Ng4,Bxe4,Bxe4,Nxe4,Qc6,f3,Qh6,fxg4', 'Bg3+,Kg1,Qh2#', 'https://lichess.org/training/A1MWy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a1NoK', 'Rapid', 'Barb960', 1974, 'ferydoun1020', 1974, 'e4,e6,d4,d6,Nf3,h6,Nc3,c6,d5,e5,Bc4,Nf6,O-O,Be7,Re1,Nbd7,b4,a6,a4,Nf8,Ba3,Bg4,dxc6,bxc6,b5,axb5,axb5,c5,Nd5,Nxd5,Bxd5,Rb8,c4,Ne6,Bc6+,Kf8,Bb2,Ng5,Re3,Nxf3+,gxf3,Bd7,Bxd7,Qxd7,Bxe5,Qe6,Bg3,Qxc4,Bxd6,Rd8,Bxe7+,Kxe7,Qb3,Qd4,Ra7+,Rd7,Rd3,Rxa7,Rxd4,cxd4,Qd5,Rd8', 'Qc5+,Ke8,Qxa7', 'https://lichess.org/training/a1NoK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A1OnI', 'Rapid', 'GrobAlert', 2315, 'Janiceps', 2389, 'g4,e5,Nf3,e4,Nd4,d5,c4,c5,Nb5,d4,Bg2,a6,N5a3,Qh4,Bxe4,Nf6,Bf3,Nxg4,Bxg4,Qxg4,d3,Qg2,Kd2,Qxf2,Kc2,Nc6,Nd2,Bg4,Ne4,Nb4+,Kb3,a5,Nb5,Bxe2,Qd2,Bd1+,Qxd1', 'a4+,Ka3,Nc2+,Qxc2,Qxc2', 'https://lichess.org/training/A1OnI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A1q53', 'Rapid', 'Gitaristje_80', 1887, 'KredoChess8', 1666, 'e4,c6,d4,d5,f3,dxe4,fxe4,e6,Nf3,Nf6,Bd3,Be7,Nc3,O-O,O-O,c5,d5,exd5,exd5,Nxd5,Nxd5,Bd6,h3,Qa5,Re1,b5,Nf6+,gxf6,Be4,Bg3,Rf1,c4,Bxa8,Qb6+,Kh1,Bxh3,gxh3,Qe6,Kg2,Kh8,Qd5,Qe2+,Kxg3,Rg8+,Kf4,Qxf1,Qxf7,Qxh3,Qxf6+,Rg7,Be3', 'Qg4+,Ke5,Nd7+,Kd6,Nxf6', 'https://lichess.org/training/A1q53');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A1U8j', 'Blitz', 'Stanbad1', 2289, 'FM chessmathmunich', 2341, 'd4,Nc6,Nc3,Nf6,Bf4,d6,e4,e6,Nf3,Be7,Bb5,Bd7,d5,exd5,exd5,Nb8,O-O,Bxb5,Nxb5,O-O,Re1,Nbd7,c4,Nc5,Nbd4,g6,Bh6,Re8,Ng5,Bf8,Bxf8,Rxe1+,Qxe1,Qxf8,Qb4,b6,Rd1,Re8,h3,a5,Qd2,Nfe4,Qf4,Qg7,h4,Nxg5,Qxg5,h6,Qg3,Re4,Nb5,Rxc4,Nxc7,Ne4,Qd3,Rxc7,Qxe4,Qxb2,Qe8+,Kg7,Re1,Rc2,Qe3,Qf6,g3,Rxa2,Qxb6,a4,Re8,Qf3', 'Qd4+,Qf6,Rg8+,Kxg8,Qxf6', 'https://lichess.org/training/A1U8j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A1VNg', 'Blitz', 'GM AtalikS', 2621, 'GM Iskusnyh_SV', 2561, 'd4,d5,c4,e6,Nc3,dxc4,e4,c5,d5,Nf6,Bxc4,exd5,Nxd5,Be6,Bg5,Be7,Nxe7,Qxe7,Bb5+,Bd7,Bxd7+,Nbxd7,f3,O-O-O,Ne2,Ne5,Qa4,Nd3+,Kf1,Kb8,Nf4,Qe5,Nxd3,Rxd3,Qc2,Rhd8,Bh4,Nxe4,fxe4', 'Qf4+,Bf2,Rd2', 'https://lichess.org/training/A1VNg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A1vyY', 'Rapid', 'lozik4', 1953, 'Marabar', 1945, 'e4,g6,d4,Bg7,Nf3,d6,Bc4,Nc6,Nc3,Bg4,h3,Bxf3,Qxf3,e6,d5,Ne5,Qe2,Nxc4,Qxc4,exd5,Qxd5,c6,Qd3,Nf6,Bf4,d5,Be5,O-O,O-O,dxe4,Qxd8,Raxd8,Bxf6,Bxf6,Nxe4,Bxb2,Rab1,Bd4,c3,Bb6,Rfd1,Rxd1+,Rxd1,Rd8,Re1,Kg7,Re2,h5,Ng5,Rd1+,Kh2,Bc7+,g3,Rd5,Nf3,Bd6,Nd4,Bf8,Kg2,a6,Re8,c5,Nf3,Rd3,c4,b5,cxb5,axb5,Rb8,b4,Ne5,Ra3,Rb7,Kf6,Nd7+,Kg7,Ne5,Rxa2,Rxf7+,Kg8,Rb7,Rd2,Nxg6,Rb2,Ne5,Bd6', 'Nc4,Rb1,Nxd6', 'https://lichess.org/training/A1vyY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A1XPK', 'Rapid', 'AISAVELIEV', 1652, 'eastoleg', 1701, 'd4,e6,c3,d5,Nf3,c5,dxc5,Bxc5,Bf4,Qb6,Qc2,Bxf2+,Kd1,Nc6,b4,Bd7,e4,Nge7,Nbd2,d4,Nc4,d3,Qd2,Qa6,Nd6+,Kf8,Qxf2,Qa4+,Kd2,Qc2+,Ke1', 'Qxc3+,Qd2,Qxa1+', 'https://lichess.org/training/A1XPK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a1y7k', 'Rapid', 'Dehon', 1898, 'eoi', 2046, 'c4,Nf6,Nc3,e5,Nf3,d6,d3,Bg4,e3,Be7,h3,Bh5,g3,O-O,Bg2,Nbd7,O-O,c6,Qb3,Qc8,d4,h6,Nh4,exd4,exd4,Nb6,Be3,Kh8,Rfe1,Bd8,c5,Nbd5,Nxd5,Nxd5,Bxd5,Bxh4,Bg2,Bf6,cxd6,Qd7,Bf4,Bxd4,Be5,Bb6,g4,Bg6,Rad1,Rab8,Qc3,f6,Bf4,Bd8,Bf3,a5,h4,a4,a3,Ra8,Kg2,Ba5,Re7,Bxc3,Rxd7,Bxb2,Rxb7,Bxa3,Bxc6,Rad8,Bxa4,Be4+,f3,Bxb7,Rd3,Bxd6,Bxd6,Rf7,Bb5,f5,g5,hxg5,hxg5,Ba8,Kf2,Rb7,Bc4,Rb2+,Kf1,Rc2,Be6,f4,Bf5,Rh2,Kg1,Ra2,Rd1,Bxf3,Rd3,Ba8', 'Rh3+,Kg8,Be6#', 'https://lichess.org/training/a1y7k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a1YIW', 'Classical', 'rafaluis1970', 1612, 'punk424', 1609, 'e4,e5,Bc4,Nf6,Nf3,Nxe4,Nxe5,d5,Qh5,Be6,Bd3,g6,Qf3,Ng5,Qg3,Bd6,f4,Ne4,Bxe4,dxe4,d3,exd3,Qxd3,Nd7,Bd2,Nxe5,fxe5,Bxe5', 'Qb5+,Qd7,Qxe5', 'https://lichess.org/training/a1YIW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a1YjY', 'Rapid', 'Underfill', 2290, 'basem_elghazaly512', 2229, 'c4,e5,Nc3,Nf6,g3,c6,Bg2,d5,cxd5,cxd5,d4,e4,Bg5,Bb4,Nh3,Qc7,Rc1,Nc6,O-O,Bxc3,Rxc3,Qd6,Bf4,Qe7,Qc2,Bd7,a3,O-O,Rd1,Rac8,Bg5,h6,Bxf6,Qxf6,Nf4,Be6,e3,g5,Ne2,Qg6,Nc1,f5,Nb3,Rc7,Nc5,Bc8,Qb3,Rd8,Qa2,f4,Bxe4,Qf7,Bh1,b6,Nd3,fxe3,fxe3,Be6,Rf1,Qg7,Qb1,Nxd4,Rxc7,Ne2+,Kf2,Qxc7,Kxe2,d4,Qc1,Qe7,e4,Bg4+,Kd2,Rc8,Qe1,Qc7,Qc1,Qd7,Qb1,Qa4,Rc1,Qa5+,b4,Qxa3,Rxc8+,Bxc8,Kc2', 'Qc3+,Kd1,Bg4+,Bf3,Bxf3#', 'https://lichess.org/training/a1YjY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A20TP', 'Rapid', 'gmabit', 1664, 'wake_lt', 1707, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,c3,Bc5,O-O,d6,Nbd2,Bg4,h3,Be6,Bb3,Qd7,Re1,Bxh3,gxh3,Qxh3,Nh2,h5,Qf3,Qxf3,Ndxf3,Ng4,Nxg4,hxg4,Ng5,g3,Be3,Rh2,fxg3,Bxe3+,Kxh2,Bxg5,Rf1,f6,Rad1,Kd7,d4,exd4,cxd4,Be3,d5,Ne5,Rde1,Bd4,Ba4+,c6,dxc6+,bxc6,b3,a5,Kg2,Ng4,Rc1,Ne3+,Kf2,Nxf1+,Kxf1,Bc5,Rc2,Re8,Rc4,Re5,Ke2,f5,Kf3,d5,Rxc5', 'dxe4+,Kf4,Rxc5', 'https://lichess.org/training/A20TP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a20ZR', 'Classical', 'AqilahHusna', 1815, 'Stan_Chess9', 2176, 'd4,e6,Bf4,f5,e3,Nf6,c3,Be7,Nf3,Ne4,Bd3,g5,Ne5,h5,Ng6,Rh6,Nxe7,gxf4,Nxc8,fxe3,fxe3', 'Qh4+,g3,Nxg3,Kd2,Nxh1', 'https://lichess.org/training/a20ZR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a23XT', 'Rapid', 'bharanidharan', 1929, 'kicom', 1979, 'd4,g6,c4,d5,Nc3,dxc4,e4,c6,Bxc4,Nf6,Nf3,Bg7,e5,Nd5,Nxd5,cxd5,Bb5+,Bd7,Qb3', 'Qa5+,Bd2,Qxb5,Qxb5,Bxb5', 'https://lichess.org/training/a23XT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A26U7', 'Rapid', 'vobarno5', 1837, 'sikier', 1831, 'e4,e5,d4,exd4,Nf3,c5,Bc4,Bd6,e5,Qe7,O-O,Bc7,Bg5,Qf8,Na3,h6,Bh4,g5,Bg3,a6,Re1,Ne7,Nd2,Nf5,Qh5,Nxg3,fxg3,Nc6,Ne4,Bxe5,Nf6+,Kd8,Ng4,f6,Nxe5,Nxe5,Bd5,d6,h3,Rb8,Nc4,Qe8,Qxe8+,Kxe8,Nxd6+,Kd7,Ne4,Rf8,c4,Ke7,Nxc5,Kd6,Nb3,Be6,Bxe6,Kxe6,Nxd4+,Kf7,Nf5,Kg6,g4,Rfe8,b3,Re6,Rad1,Rbe8,Rd5', 'Nf3+,Kf2,Nxe1', 'https://lichess.org/training/A26U7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a2btp', 'Bullet', 'peterlijnse', 1594, 'lucdj3', 1720, 'd4,d5,Nf3,e6,Bf4,Bd6,e3,Bxf4,exf4,c6,Nbd2,Qd6,Ne5,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/a2btp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A2CAK', 'Rapid', 'lander23', 1642, 'duck3ds', 1601, 'd4,Nf6,c4,b6,Nc3,Bb7,Nf3,d5,Bf4,a6,e3,Nh5,Bg3,Nxg3,hxg3,e6,Bd3,g6,a3,dxc4,Bxc4,Bxf3,Qxf3,c6,Ne4,Bg7,Rc1,b5,Bb3,O-O,Nc5,Ra7,Qf4,Qf6,Qxf6,Bxf6,Ne4,Bg7,Ng5,h6,Ne4,Rd7,Nc5,Ra7,Rc2,Nd7,O-O,Nxc5,Rxc5,Rc7,Rfc1,Rfc8,f4,Bf8,R5c3,b4,axb4,Bxb4,Rc4,Bd2,R1c2,Bxe3+,Kf1,c5,dxc5,Rxc5,Rxc5,Bxc5,Ba4,Kf8', 'b4,Bxb4,Rxc8+', 'https://lichess.org/training/A2CAK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a2EeS', 'Classical', 'alligatorlizard', 1917, 'ryzhou', 1833, 'd4,d5,c4,c6,e3,Nf6,Nc3,e6,Bd3,dxc4,Bxc4,Be7,Nf3,Nbd7,O-O,h5,e4,h4,h3,b5,Bd3,Bb7,a3,Qc7,e5,Nd5,Nxd5,exd5,Re1,O-O-O,b4,Rhg8,Bg5,Bxg5,Nxg5,Nf8,Rc1,f6,exf6,gxf6,Nf3,Ng6,Bxb5,Nf4,Bf1', 'Nxh3+,Kh1,Nxf2+', 'https://lichess.org/training/a2EeS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A2frv', 'Rapid', 'Clynch4', 1917, 'Gillulescududu', 1865, 'e4,e5,Nc3,Nc6,Bc4,h6,d3,Nf6,f4,Bb4,fxe5,Nxe5,Bb3,Bxc3+,bxc3,d6,Nf3,Nxf3+,Qxf3,Bg4,Qg3,Qd7,O-O,O-O-O,h3,Be6,Rb1,Rhg8,Be3,b6,a4,Nh5,Qf3,Nf6,e5,dxe5', 'Qa8#', 'https://lichess.org/training/A2frv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A2fVY', 'Rapid', 'smallman', 1859, 'al_fil', 1824, 'e3,e5,b3,b6,Bb2,Bd6,Qe2,Qf6,Nc3,Ne7,O-O-O,Nbc6,g4,a5,Bg2,Ba6,Qe1,O-O,h4,b5,Ne4,Qg6,g5,Nf5,h5,Qe6,Bh3,a4,f4,axb3,axb3,exf4,Nf6+,gxf6,gxf6,Be5,d4,Bxf6,Nf3,Qxe3+,Qxe3,Nxe3,Rdg1+,Kh8,Ne5,Nxe5,dxe5,Bg7,Bxd7,Rad8,h6,Bxh6,e6+,f6,e7,Rxd7,exf8=Q+,Bxf8,Bxf6+,Bg7,Bg5,Bb7,Rh4,f3,Bxe3,Re7,Bh6,Bf6,Rf4,Bg7', 'Bxg7+,Rxg7,Rf8+,Rg8,Rgxg8#', 'https://lichess.org/training/A2fVY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A2hAC', 'Rapid', 'wwilhelm', 1861, 'LevonSugyan', 1826, 'Nf3,Nf6,c4,g6,Nc3,Bg7,g3,O-O,Bg2,d6,O-O,Nbd7,d4,Re8,e4,e5,Be3,c6,h3,Qc7,Rc1,Nf8,b4,h6,Qd2,Kh7,c5,Ne6,cxd6,Qxd6,Nxe5,Re7,a3,Nd7,Nxd7,Rxd7,e5,Bxe5,Ne4,Qe7,dxe5,Rxd2,Nf6+,Kh8,Bxd2,Ng7,Bxh6,Qxe5,Ne4,Bxh3,Bf4,Qe6', 'Ng5,Bxg2,Nxe6', 'https://lichess.org/training/A2hAC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A2ISW', 'Rapid', 'Sanchez001', 1674, 'MLGJ3ZU2', 1730, 'e4,c5,Bc4,a6,a4,e6,c3,d5,exd5,exd5,Bb3,Nc6,d3,Nf6,Nf3,Bd6,O-O,O-O,h3,Be6,Bg5,h6,Bh4,Be7,Nbd2,Na5,Ba2,c4,dxc4,dxc4,Ne5,b5,axb5,axb5,Qc2,Qc7,f4,b4,Bb1,b3,Qd1,Rfd8,Qe2,Rac8,Ne4,Nxe4,Qxe4,Bxh4,Qh7+,Kf8,Qh8+,Ke7,Qxg7,Bf6', 'Ng6+,Kd6,Qxf6', 'https://lichess.org/training/A2ISW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A2Ivv', 'Classical', 'ajfirecracker', 1690, 'D4equalscoward', 1765, 'e4,d5,exd5,Nf6,c4,e6,Nc3,exd5,d4,Bb4,Nf3,Bg4,h3,Bh5,Bg5,O-O,cxd5,Re8+,Be3,Qxd5,Bd3,Bxf3,Qxf3,Qxd4,Rd1,Bxc3+,bxc3,Qxc3+,Rd2,Nc6,O-O,Rad8,Bg5,Ne5', 'Bxh7+,Nxh7,Qxc3', 'https://lichess.org/training/A2Ivv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A2jQh', 'Rapid', 'MedoAttack', 1636, 'Rinkima', 1608, 'e4,c5,Nc3,Nc6,Nf3,e6,d4,cxd4,Nxd4,Nf6,Bg5,Be7,Nxc6,bxc6,Be2,O-O,h4,Re8,Qd2,Qa5,O-O-O,Rb8,Bc4,d5,Bb3,d4,Qxd4,e5,Qe3,Rxb3,cxb3,Be6,Kb1,h6,f3,hxg5,hxg5,Nh7,Rh5,g6,Rxh7,Kxh7,Rh1+,Kg7,f4,Rh8,Rf1,Rh2', 'f5,gxf5,exf5,Bxf5+,Rxf5', 'https://lichess.org/training/A2jQh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A2mmM', 'Blitz', 'Tomalaquestuya', 1847, 'Abu_Ahmad215', 1958, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,Nf6,Nc3,Be7,Be3,Be6,O-O-O,O-O,Kb1,Nc6,Qd2,Ng4,Bf4,Bf6,h3,Nge5,Bh2,Nxf3,gxf3,Ne5,Qe3,c6,f4,Nc4,Qg3,Qa5,Bxc4,Bxc4,e5,dxe5,fxe5,Be7,f4,Bb4,Rhg1,g6,Rd4,Be6,Rxb4,Qxb4,h4,h5,Qg5,Kh7,Qg2,Bf5,Qe2,Rfd8,a3,Qd4,Rg5,Be6,f5,Bxf5,Rxf5,gxf5,Qxh5+,Kg7,Qg5+,Kf8,Qxf5,Qxh4,Bf4,Qh1+,Ka2,Rac8,Bg5,Re8,Bf6,Re6,Qg5,Qh7,Ne4,Qxe4', 'Qg7+,Ke8,Qg8+,Kd7,Qxf7+,Re7,Qxe7#', 'https://lichess.org/training/A2mmM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a2nXf', 'Classical', 'pintopodre', 1602, 'ingalls', 1623, 'e4,e5,Nf3,Nc6,Bb5,Bd6,Bxc6,bxc6,Nc3,Ba6,d3,Bb4,Nxe5,Bxc3+,bxc3,Qe7,Bf4,d6,Nxc6,Qd7,Nd4,Nf6,c4,O-O,e5,Rfe8,O-O', 'dxe5,Bxe5,Rxe5', 'https://lichess.org/training/a2nXf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A2PXN', 'Rapid', 'LionHB', 1983, 'Cosmobot_008', 1971, 'e4,e5,Nf3,Nc6,Nc3,d6,Bc4,Bg4,h3,Bh5,g4,Bg6,d4,Nf6,Bg5,Be7,dxe5,Nxe5,Nxe5,dxe5,Qxd8+,Rxd8,f3,O-O,Ke2,h6,Bh4,Rfe8,Rad1,Nd7,Bxe7,Rxe7,Nd5,Re6,Nb4,Rb6,a3,a5,Nd5,Rxb2,Rd2,Nf8', 'Ne7+,Kh7,Rxd8', 'https://lichess.org/training/A2PXN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A2QOb', 'Blitz', 'Miguay', 1709, 'ikarosama', 1720, 'e4,e6,Nf3,d5,exd5,exd5,d4,Qe7+,Be2,Be6,O-O,Nf6,Re1,Nc6,Bb5,a6,Ba4,b5,Bb3,Na5,c3,Nxb3,axb3,c5,c4,dxc4,bxc4,bxc4,Nc3,cxd4,Nxd4,Qd6,Be3,Be7,Qc2,O-O,Rad1,Qc7,Nxe6,fxe6,Rd4,Bc5,Rh4,Bxe3,Rxe3,Qc5,Reh3,g6,Rg3,Kg7', 'Rxh7+,Nxh7,Qxg6+,Kh8,Qg7#', 'https://lichess.org/training/A2QOb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A2Sgt', 'Rapid', 'Pirlo65', 1672, 'sachin875', 1664, 'd4,d5,Bf4,Nf6,h3,e6,Bg5,Be7,Bxf6,Bxf6,e3,O-O,Bd3,b6,Ne2,c5,c3,Nc6,Nd2,cxd4,Nxd4,Nxd4,exd4,e5,dxe5,Bxe5,O-O,Re8,Nf3,Bf6,Bc2,Ba6,Bd3,Bxd3,Qxd3,Qd6,Rad1,Red8,Rd2,Rd7,Rfd1,Rad8,Qf5,g6,Qg4,h5,Qa4,Qc5,Qc2,d4,cxd4,Qxc2,Rxc2,Bxd4,Nxd4,Rxd4,Rxd4,Rxd4,f3,Rd7,Kf2,Kg7,b3,Kh6,h4,Rd6,Re2,Kg7,Rc2,Rd7,Kg3,f6,a4,g5,hxg5,fxg5,Kf2,h4,g3,Kf6,gxh4,gxh4,Kg2,Rh7,Kh3,Kf5,Rc4,Kg5,Rg4+,Kf5,b4,a5,bxa5,bxa5,Rc4,Rh5', 'Rc5+,Kg6,Rxh5,Kxh5,f4', 'https://lichess.org/training/A2Sgt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a2TCe', 'Rapid', 'nerlsz', 1923, 'h4g5', 1801, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f4,O-O,Nf3,Bg4,Be2,Nbd7,e5,dxe5,dxe5,Ne8,O-O,c6,Ne4,Nc7,Be3,Ne6,Nfg5,Bxe2,Qxe2,Nxg5,Nxg5,h6,Nxf7,Rxf7,e6,Rf5,exd7,Qxd7,Rad1,Qc7,Bd4,e5,fxe5,Bxe5,Bxe5,Rxe5,Qd3,Qg7,Qd7,Rae8,Qxg7+,Kxg7,Rd7+,R5e7,Rfd1,Kf6,R1d6+,Kf7,Kf2,Kf8,Rxe7,Rxe7,Rxg6,Rd7,Kg3,Rd2,Rf6+,Kg7,Rf2,Rd6,c5,Rg6+,Kh4,Rg5,b4,Rd5,a3,Kg6,Rf3,Rd4+,Kg3,Kg5,Re3,Rg4+,Kf3,Rf4+,Ke2,b6,cxb6,axb6,Re6,Rc4,Re3,h5,h3,h4,Kf3,Rf4+,Ke2,Rc4,Re5+,Kf4,Rh5,Kg3,Kd3,Rf4,Rh6,c5,bxc5,bxc5,Rg6+,Kf2,Rg5,Rd4+,Kc3,Ra4,Kb3,Ra5,Rg4,Rb5+,Kc4,Ra5,Kb3,Rb5+,Ka2,Ra5,Rxh4,Kxg2,Rh5,Kg3,Kb3', 'c4+,Kxc4,Rxh5', 'https://lichess.org/training/a2TCe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a2u6H', 'Rapid', 'Petro2560', 1897, 'julio899', 1964, 'd4,Nf6,Bf4,g6,e3,Bg7,Be2,d6,Nd2,Nbd7,a3,c5,dxc5,Nxc5,Ngf3,h6,h3,Nh5,c3,Nxf4,exf4,Bf5,Nb3,Qb6,Nxc5,Qxc5,Qb3,Be4,O-O-O,Qxf2,Bb5+,Kf8,Bc4,e6,Rhf1,Qxg2,Nd2,Bf5,Nf3,d5,Nh4,dxc4', 'Qb4+,Kg8,Nxg2', 'https://lichess.org/training/a2u6H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a2VK4', 'Rapid', 'fer95', 1697, 'Thurston', 1844, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,c3,dxc3,bxc3,a6,Ba4,b5,Bb3,Nf6,d3,Bb7,O-O,c5,Nd2,d5,exd5,Nxd5,Qf3,Rb8,Re1+,Be7,c4,bxc4,dxc4,Nb4,Qg3,O-O,Ne4,Nc2,Bh6,Bf6,Nxf6+,Qxf6,Bg5,Qg6,Bxc2,Qxc2,Bh6,Qb2,Rab1,Qf6,Bf4,Rbe8,Be5,Qh6,Rxb7,f6,Rb6,Qd2,Rbb1,Rxe5,Rxe5,fxe5,f3,Qe3+,Qf2,Qd3,Re1,Qxc4,Rxe5,Qb4,Rxc5,Re8,Rc1,a5,h3,a4,Qc5', 'Re1+,Rxe1,Qxc5+', 'https://lichess.org/training/a2VK4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a2XKA', 'Rapid', 'imagine_chess', 1748, 'fritsni78', 1806, 'd4,b6,c4,Bb7,Nc3,Nf6,Qc2,e6,a3,Nc6,e3,d5,Nf3,Bd6,h3,Kf8,Nb5,Ne4,Nxd6,cxd6,Bd3,Ne7,O-O,Rc8,Bxe4,dxe4,Nd2,d5,b3,b5,Qd1,bxc4,bxc4,dxc4,Qg4,f5,Qf4,c3,Nb3,Nd5,Qe5,Qf6,Qd6+,Kf7,Nc5,Bc6,f4,Rhd8,Qe5,Bb5,Qxf6+,Kxf6,Rf2,Bd3,g4,g6,g5+,Kf7,Kg2,Rd6,a4,Rb8,Raa2,Rdb6,Nd7,Rb1,Nxb8,Rxb8,Ra1,c2,Bd2,Rb1,Ra2,Nc3,Ra3,Ne2,Rf1,Rxf1,Kxf1,Nxf4+,Ke1,Ne2,h4,c1=Q+,Bxc1,Nxc1,Kd2,Ne2,Rb3,Ba6,a5,Ng3,Rc3,Ke7,Rc7+,Kd6,Rxa7,Bd3,Rxh7,Kd5,a6,Bxa6,Ra7,Bd3,Ra5+,Kc6,Re5,Kd6,Ra5,Nf1+,Ke1,Nxe3,Kd2,Nc2,Ra6+,Bxa6,Kxc2,Kd5,Kc3,e3,h5,gxh5,g6,e2', 'Kd2,Kxd4,g7,Bc4,g8=Q', 'https://lichess.org/training/a2XKA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A379J', 'Blitz', 'FM Los5hermanos', 2237, 'Adermo', 2174, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Bc4,c6,Qf3,Be6,Nge2,g6,Nd4,Bg7,Nxe6,fxe6,Qe2,Qd7,Ne4,O-O,Nc5,Qd6,Nxe6,Rf5,Nxg7', 'Re5,O-O,Rxe2', 'https://lichess.org/training/A379J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a3AdQ', 'Rapid', 'TAEkayo', 2197, 'fischer130583', 2138, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bb5,Bg4,Bxc6+,bxc6,c3,e6,Bf4,Qb6,b4,a5,O-O,axb4,cxb4,Qxb4,Nbd2,Nf6,Qc2,Rc8,Rfb1,Qa5,Qb3,Be7,Ne5,Bf5,Nxc6', 'Rxc6', 'https://lichess.org/training/a3AdQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A3Af0', 'Rapid', 'PhriidBst', 1944, 'Raven_Darkholme', 1868, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Nxe4,Bxf7+,Kxf7,Nxe5+,Nxe5,Qh5+,Kg8,Qxe5,d5,b3,Bd6', 'Qxd5+,Kf8,Qxe4', 'https://lichess.org/training/A3Af0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a3dyb', 'Rapid', 'Pepinosideral', 1826, 'Definitelysatan', 1869, 'c4,e5,Nc3,c6,g3,d5,cxd5,cxd5,d4,e4,Bg2,Nf6,e3,Bb4,Ne2,O-O,O-O,Be6,a3,Bxc3,bxc3,Qd7,Re1,Bh3,Bh1,Nc6,Nf4,Bg4,Qb3,Rab8,c4,dxc4,Qxc4,Bf3,Bb2,Qg4,d5,Bxh1,Kxh1,Na5,Qb4,b6,Bxf6,gxf6,Qxe4,Nb3,Ra2,Nc5,Qd4,Qf3+,Kg1,Nd7,d6,Rbd8,Nd5,Ne5,Ne7+,Kg7,e4,Qh5,Nf5+', 'Qxf5,exf5,Nf3+,Kg2,Nxd4', 'https://lichess.org/training/a3dyb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A3eT9', 'Blitz', 'SimonMujaji', 2152, 'Bulat1980', 2134, 'e4,a6,d4,b5,Nf3,Bb7,Bd3,e6,O-O,c5,dxc5,Bxc5,c4,b4,Nbd2,a5,Nb3,Ba7,a3,Ne7,axb4,axb4,Bd2,Nbc6,Qc2,O-O,e5,f5,exf6,Rxf6,Bxh7+,Kh8,Bd3,Nf5,Bg5,Qf8,Bxf6,Qxf6,Bxf5,exf5,c5,Ne7,Nbd4,Be4,Qd2,Bxc5,Rxa8+,Bxa8,Rc1,d6,Qf4,Ng6,Qd2,Be4,Nb3,Ne5,Nxe5,Qxe5,Nxc5,dxc5,f3,Bc6,Qd8+,Kh7,Qh4+,Kg8,Qc4+,Bd5,Qxc5,Kh7,Qxb4,Qe3+,Kf1,Qxc1+,Kf2,Qd1,Qh4+,Kg6,Qg3+,Kf6,Qd6+,Kg5,h4+,Kxh4,g3+,Kg5,f4+,Kh5,g4+,Kxg4,Qg6+,Kxf4', 'Qg3+,Ke4,Qe3#', 'https://lichess.org/training/A3eT9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A3kc5', 'Rapid', 'Dhey', 1600, 'shibarshov1957', 1612, 'e4,b6,Nc3,Bb7,f4,e5,Nf3,exf4,d4,g5,Bc4,Nh6,O-O,Ba6,Bxa6,Nxa6,Nxg5,Qxg5,Bxf4,Qg4,Qd3,Nb4,Qc4,Nc6,Bxc7,Na5,Qd5,Rc8,Bg3,Nc4,Rf4,Qg6,Raf1,Ne3', 'Qe5+,Qe6,Qxh8', 'https://lichess.org/training/A3kc5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a3Kx5', 'Rapid', 'Galdricchess', 2041, 'basilepelotier', 1933, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Nxe4,Bxf7+,Kxf7,Nxe4,d5,Ng3,e4,Ng1,Bc5,d4,Bxd4,c3,Bb6,Bf4,Rf8,Qh5+,Kg8,Bg5,Qd6,O-O-O,Rxf2,Nxe4,Qg6', 'Qxg6,hxg6,Nxf2', 'https://lichess.org/training/a3Kx5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a3mjU', 'Rapid', 'king_kimo', 2198, 'Playlikekasparov', 2148, 'd4,Nf6,c4,d6,Nc3,g6,e4,Bg7,Be2,O-O,Be3,e5,d5,Na6,g4,Nd7,g5,Ndc5,h4,Bd7,a3,b6,b4,Nb7,h5,Nb8,f3,a5,h6,Bh8,Nh3,Bxh3,Rxh3,Nd7,Kf2,f5,gxf6,Nxf6,Rg3,Nh5,Rg4,Nf4,Qg1,axb4,Bxf4,exf4,Rxg6+,Kf7,Rg7+,Bxg7,Qxg7+,Ke8,Nb5,Qh4+,Kf1,Qh1+,Kf2,Qh2+,Ke1,Rf7,Nxc7+,Rxc7,Qxc7,Qg1+,Kd2,Qxa1,Qxb7,Qc3+,Kd1,Rxa3,Qc6+,Ke7,Qc7+,Kf6', 'Qg7#', 'https://lichess.org/training/a3mjU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a3O6s', 'Blitz', 'TheRealKitzusIsBack', 2344, 'IM ReinaldoDuran81', 2257, 'd4,Nf6,c4,g6,g3,Bg7,Bg2,O-O,Nf3,c5,dxc5,Ne4,O-O,Nxc5,Qc2,Nc6,a3,a5,Nc3,a4,Be3,d6,Rad1,Qb6,Nb5,Be6,Nfd4,Nxd4,Nxd4,Qa6,Nxe6,Nxe6,Bd5,Rac8,Rc1,Nd4,Bxd4,Bxd4,e3,Bf6,Rfd1,Rc5,Qe2,Rfc8,h4,h5,g4,hxg4,Qxg4,Kg7,h5,Rh8,hxg6,fxg6,Qd7,b6,Rd4,Qc8,Qxc8,Rhxc8,Rg4', 'Rxd5,cxd5,Rxc1+', 'https://lichess.org/training/a3O6s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a3Q0R', 'Classical', 'Ruben3064', 1752, 'sachaken78', 1769, 'd4,e6,c4,d5,Nf3,Nf6,Nc3,c5,e3,Ne4,Nxe4,dxe4,Nd2,f5,Nb3,Qb6,d5,Bd6,Be2,a5,a4,Qb4+,Bd2,Qb6,Bh5+,g6,Be2,O-O,Bc3,e5,O-O,Nd7,f4,exf4,exf4,Qc7,g3,b6,Nd2,Be7,b3,Bf6,Qc2,Bd4+,Kg2,Re8,Rad1,e3,Nf3,Bxc3,Qxc3,Qd6,Ng5,Nf6,Ne6,Bxe6,Qxf6', 'Bxd5+,cxd5,Qxf6', 'https://lichess.org/training/a3Q0R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a3qFb', 'Rapid', 'kgn1', 1672, 'road1930', 1718, 'e4,e6,Nf3,d5,Nc3,d4,Nb5,c5,d3,a6,Na3,Nc6,Bf4,Nf6,h3,Be7,Qd2,O-O,Be2,b5,Bg5,h6,Bxh6,gxh6,Qxh6,Nh7,h4,Bd6,Ng5,Nf6,Rh3,Re8,Rf3,Bf8,Qxf6,Qxf6,Rxf6,Be7,Rh6,Kg7,Rh7+,Kg8,Rh5,f6,O-O-O,fxg5,hxg5,Ne5,Rdh1,Ng6,f4,Bb7,Rh6,Kf7,Rh7+,Kg8,Bh5', 'Kxh7,Bxg6+,Kxg6', 'https://lichess.org/training/a3qFb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a3r7r', 'Rapid', 'Viktor2021', 1851, 'Jackie22', 1774, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Bd3,Bc5,O-O,O-O,c4,d6,Nc3,Re8,Kh1,Ng4,f3,Nh6,Bxh6,gxh6,f4,Qf6,f5,Bd4,Rc1,Bxc3,Rxc3,Bb7,c5,dxc5,Rxc5,Qxb2,Qh5,Qd4,Bc4,Qxc5', 'Qxf7+,Kh8,Qf6#', 'https://lichess.org/training/a3r7r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A3rXs', 'Rapid', 'PabloQuevedo', 2048, 'felipemago13', 2079, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,Nc6,Nb3,e6,O-O,Be7,Bg5,Qc7,Bxf6,Bxf6,Qd2,b5,a3,O-O,Rab1,Ne5,f4,Nxd3,cxd3,b4,axb4,Qb6+,Kh1,Qxb4,Nc1,Rb8,N1e2,Bb7,d4,Rfc8,e5,dxe5,fxe5,Be7,Qf4,Rf8,h3,h6,Kh2,f6,exf6', 'Bd6,Kg1,Bxf4', 'https://lichess.org/training/A3rXs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A3syS', 'Blitz', 'sergioING', 1999, 'FM loiters', 2314, 'e4,e6,Nf3,c5,c3,d5,exd5,Qxd5,d4,Nf6,Bg5,Be7,Nbd2,Nc6,Bc4,Qd8,dxc5,Bxc5,O-O,O-O,Ne4', 'Qxd1,Nxf6+,gxf6,Raxd1,fxg5', 'https://lichess.org/training/A3syS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a3U3P', 'Classical', 'Shrestha24', 1646, 'EvgenyIvnv', 1667, 'e4,e6,d4,Bb4+,Nc3,Ba5,Nf3,b6,Be3,Qe7,Bc4,Nc6,e5,Rb8,Bg5,f6,exf6,gxf6,Bh4,b5,Bb3,Ba6,O-O,Nh6,Re1,Rg8,d5,Qg7,g3,Ne7,dxe6,d6,Ne4,Bxe1,Bxf6,Qg6,Qxe1,Bb7,Nh4', 'Qxe4,Qxe4,Bxe4', 'https://lichess.org/training/a3U3P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A3uAf', 'Classical', 'Subestimado', 1708, 'brahimelb', 1743, 'e4,c5,d3,Nc6,a3,e5,Nf3,Nge7,c3,d6,d4,cxd4,cxd4,Bg4,d5,Bxf3,Qxf3,Nd4,Qg4,Nc2+,Kd1,Nxa1', 'Bb5+,Nc6,dxc6,bxc6,Bxc6+', 'https://lichess.org/training/A3uAf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a3ucw', 'Classical', 'wXy13', 1853, 'Conqueror2099', 1940, 'd4,d5,c4,e5,dxe5,d4,Nf3,c5,e3,Nc6,h3,Bf5,exd4,cxd4,Bd3,Bb4+,Ke2,Bxd3+,Qxd3,Qe7,Nxd4', 'Qxe5+,Qe3,Nxd4+', 'https://lichess.org/training/a3ucw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A3uWm', 'Classical', 'AgsiKapin12', 2026, 'Akiba-Arg', 1977, 'd4,d5,Nf3,e6,Bf4,Nf6,e3,c6,c4,Be7,Nc3,Nbd7,Qb3,dxc4,Bxc4,b5,Bd3,Bb7,a4,a6,O-O,O-O,h3,Rc8,Ne5,b4,Ne4,a5,Rac1,c5,Nxf6+,Nxf6,dxc5,Bxc5,Rfd1,Qb6,Be2,Rfd8,Bf3,Nd5,Bg3,Ba8,Nc4,Qa7,Qd3,Nxe3', 'Qxd8+,Rxd8,Rxd8+', 'https://lichess.org/training/A3uWm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a3vPU', 'Blitz', 'energic07', 1932, 'tosh14', 1943, 'e4,c5,Bc4,e6,a3,Nf6,d3,Nc6,Ne2,Be7,O-O,O-O,c3,a6,Be3,b5,Ba2,Bb7,Nd2,d5,exd5,exd5,f4,Re8,Ng3,Bd6,Qf3,Ne7,Bf2,c4,d4,Ng6,Rae1,Qd7,Bb1,Nh4,Qd1,Bxf4,Nh5,Nxh5,Qxh5,Ng6,Rxe8+,Rxe8,Nf3,Bc8,Ng5,h6,Nf3,Qg4,Qxd5,Re2,Bxg6,Qxg6,Qd8+,Kh7,Qxc8,Be3,Qh3,Rxf2,Rxf2', 'Qb1+,Ne1,Qxe1#', 'https://lichess.org/training/a3vPU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A3xbM', 'Classical', 'robinmagpie', 1824, 'cpan1185', 1771, 'e4,e5,Nf3,d6,Bc4,Bg4,d4,Nd7,dxe5,Nxe5,Bf4,Nxc4,Qd5,Bxf3,gxf3,Qf6,Qxc4,Qxf4,Nc3,c6,Ke2,d5,Nxd5,cxd5,Qb5+,Kd8,Qxd5+,Bd6,Rad1,Ke7', 'Qxb7+,Bc7,Qxa8', 'https://lichess.org/training/A3xbM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a3YGd', 'Rapid', 'Firebirdy', 1605, 'Kraatz', 1803, 'e4,c5,Nf3,e6,Nc3,Nc6,Bb5,Qc7,O-O,Nf6,d3,Be7,Re1,d6,e5,dxe5,Nxe5,O-O,Nxc6,bxc6,Bc4,a5,Ne4,Nd5,d4,cxd4,Qxd4,a4,a3,Rb8,b3,axb3,cxb3,f5,Nd2', 'Bf6', 'https://lichess.org/training/a3YGd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a3YRl', 'Rapid', 'Sasa_Kostic', 1687, 'Marik1914', 1757, 'd4,d5,c4,e6,Nc3,Bb4,Qc2,dxc4,e3,b5,Nf3,Bb7,Be2,Nf6,a4,c6,O-O,a6,e4,Bxc3,bxc3,c5,d5,exd5,Rd1,O-O,Bg5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Qd6,Bf3,d4,Qe2,Qe5,Bxf6,Qxf6,e5,Bxf3,gxf3,Qf4,Kh1,d3,Rg1+,Kh7,Qd1,Nd7,Rg4,Qf5,f4,Qh5,Qf3,Rg8', 'Rg7+,Rxg7,Qxh5+', 'https://lichess.org/training/a3YRl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a3YyM', 'Blitz', 'Teodorico51', 1614, 'I_love_pasta', 1591, 'e4,c5,Bc4,e6,Nf3,Nc6,c3,Nge7,O-O,g6,d4,cxd4,cxd4,d5,exd5,exd5,Bd3,Bg7,Nc3,Nxd4,Nxd4,Bxd4,Nb5,Bg7,Bf4,O-O,Rb1,Bf5,Nd6,Bxd3,Qxd3,Nc8,Nxb7,Qb6,Qxd5,Ne7,Qe4,Nf5,g4,Rfe8,Qd5,Nd4,Be3,Qf6,Nd6,Ne6,Nxe8,Rxe8,Bxa7,Nf4,Qc5,Nh3+,Kg2,Qh4,Rbe1,Rxe1,Rxe1,Nf4+,Kg1,Nh3+,Kf1,Nf4,Qc8+,Bf8,Bc5', 'Qh3+,Kg1,Qg2#', 'https://lichess.org/training/a3YyM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A3ZiD', 'Rapid', 'conberd', 1707, 'pepefaroles', 1673, 'd4,d5,Bf4,Nf6,e3,h6,Nf3,Bf5,c4,e6,Nc3,Nc6,a3,Ne4,Bd3,Be7,O-O,a6,Nd2', 'Nxc3,bxc3,Bxd3', 'https://lichess.org/training/A3ZiD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a4082', 'Rapid', 'ankebutt', 1805, 'mindip', 1804, 'd4,d5,Nf3,Nc6,Bf4,Bg4,e3,Nf6,Be2,e6,h3,Bf5,a3,Bd6,Ne5,Bxe5,dxe5,Ne4,f3', 'Qh4+,g3,Nxg3,Bxg3,Qxg3+', 'https://lichess.org/training/a4082');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A419Z', 'Classical', 'Muratyukse', 1953, 'Topolinoo', 2090, 'e4,e6,c4,d5,cxd5,exd5,e5,c5,d4,Nc6,Bb5,a6,Bxc6+,bxc6,h3,cxd4,Qxd4,c5,Qf4,f6,Nf3,fxe5,Nxe5,Nf6,Nc6,Qd6,Qe3+,Be6,Na5,Rb8,O-O,Be7,Re1,Kf7,Qd3,Rb5,Bd2,Bd8,Qa3,Qb6,Nb3,c4,Be3,Qb8,Nd4,Ra5,Qc3,Bd7,f3,Re8,Na3,Rc5,b4,Rc8,Nac2,Bb6,a4,Re7,Bg5,Rce8,Rxe7+,Rxe7,b5,a5,Ne3,Qa7,Rd1,h6,Bxf6,gxf6,Kh1,Bxd4', 'Rxd4,Rxe3,Qxe3', 'https://lichess.org/training/A419Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a43lI', 'Rapid', 'DON-JAQUE', 1792, 'superalex1', 1737, 'd4,Nf6,Nf3,g6,g3,Bg7,Bg2,d5,O-O,O-O,Nbd2,Bg4,c3,Nbd7,h3,Be6,Ng5,c5,Nxe6,fxe6,dxc5,Nxc5,Nb3,b6,Nd4,Rc8,b4,e5,bxc5,exd4,cxd4,bxc5,dxc5,Rxc5,Be3,Ra5,a4,Ne4,Bd4,Bxd4,Qxd4,Nf6,Rfd1,Qd7,e4,e6,Qb4,Ra6,exd5,Nxd5,Qc4,Rd6,a5,Rc8,Qg4,Rf8,Bxd5,Rxd5,Rxd5,Qxd5,Rd1,Qa2,f4,Re8,Re1,Kf7,h4,Qxa5,Re2,Qc5+,Kh2,a5,Kh3,a4,Qf3,Qb5,Ra2,Ra8,Qxa8,Qb3,Qxa4,Qd5,Qa7+,Kf6,Ra6,Qh1+,Kg4,Qd1+,Kh3', 'Qh1+,Kg4,h5#', 'https://lichess.org/training/a43lI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a44M0', 'Bullet', 'FM Gahan-MG', 2506, 'GM EvilGenius94', 2613, 'b3,b6,Bb2,Bb7,Nf3,c5,g3,Nc6,Bg2,Nf6,O-O,g6,d4,cxd4,Nxd4,Bg7,c4,O-O,Nc3,Rc8,Rc1,d6,Nd5,Nxd5,cxd5,Nxd4,Bxd4', 'Rxc1,Qxc1,Bxd4', 'https://lichess.org/training/a44M0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A44YT', 'Classical', 'voivoivoi', 1635, 'ESwamps', 1738, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Nc3,c5,Nb5,Nc6,c3,a6,Nd6+,Bxd6,exd6,Qxd6,Bd3,Bg4,O-O,cxd4,cxd4,Nxd4', 'Qa4+,Nc6,Qxg4', 'https://lichess.org/training/A44YT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a45WM', 'Classical', 'pnhj', 1643, 'consiglier', 1618, 'b4,e5,Bb2,d6,e3,h6,a3,Nf6,Nc3,Be7,Qf3,O-O,Rd1,Nc6,h3,Bf5,Qxf5,a6,Nge2,g6,Qf3,Kg7,d4,exd4,Nxd4,Nxd4,Rxd4,Rb8,Nd5,c6,Nxf6,Bxf6,Rf4,Bxb2,Bc4,d5,Bb3,Bc3+,Ke2,Qd7,e4,Rbe8,Qxc3+,Kh7,Kd1,dxe4+,Kc1,Qd6,Rxf7+,Rxf7,Bxf7,Qf4+,Qd2,Qxf7,Re1,h5,f3,exf3,Rxe8,Qxe8,gxf3,Qf7,f4,Qf5,Qe3,h4,Qe7+,Kh6,Qxh4+,Kg7,Kb2', 'Qf6+,Qxf6+,Kxf6,Kc1,Kf5,Kd2,Kxf4', 'https://lichess.org/training/a45WM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A466D', 'Rapid', 'croco1', 1762, 'Samson77', 1993, 'e4,e5,Nf3,d6,h3,Be7,Nc3,Nf6,Be2,O-O,O-O,Nc6,a3,Be6,Ng5,d5,exd5,Bxd5,Nxd5,Nxd5,Ne4,f5,Nc3,e4', 'Bc4,Ne5,Bxd5+', 'https://lichess.org/training/A466D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a48IJ', 'Blitz', 'marchante42', 1763, 'SAlberto', 1882, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Be3,b5,Bb3,Bb7,f3,Be7,Qd2,O-O,h4,e5,Nf5,Nbd7,h5,Nb6,Nxg7,Kxg7,Bh6+,Kh8,Bxf8,Bxf8,Bxf7,Nc4,Qg5,Bg7,O-O-O,Qf8,Bxc4,Bh6,f4,Bxg5,fxg5,Nxe4,Nxe4,Bxe4,Rhf1,Qd8,Be6,Qxg5+,Kb1,Qxg2,Rg1,Qxc2+,Ka1,b4,Rc1,Qf2,Rcf1,Qc5,Rc1,Qe3,Rce1,Qd4,Rg4,Qd2,Rgxe4,Rf8,Rg1,Qh6,Bd5,Qxh5,Reg4,Qe8,Bc4,Qc8,Bb3,Rf1+', 'Rxf1,Qxg4,Rf8+,Kg7,Rg8+,Kf6,Rxg4', 'https://lichess.org/training/a48IJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a4aPN', 'Blitz', 'IM Skakthor', 2496, 'vgl_power', 2343, 'd4,c5,d5,Nf6,Nc3,d6,e4,a6,f4,g6,e5,Nfd7,Nf3,Bg7,e6,fxe6,dxe6,Nf6,Ng5,O-O,Bd3,b5,Qf3,Ra7,O-O,Bb7,Qh3,Nc6,Nd5,h6,Nf7,Rxf7,exf7+,Kxf7,Nxf6,exf6,f5,g5,c3,Ne5,Bc2,Kg8,Be3,Qe8,Rfe1,Ra8,Rad1,Rd8,Bf2,h5,Be4,Bxe4,Rxe4,h4,Re2,Qh5,Qe3,Bh6,Qe4,g4,Be3,Bxe3+,Qxe3,h3,gxh3,gxh3,Kh1,Kf7,Rg1,Qf3+,Qxf3,Nxf3,Rg3,Ng5,Rge3,Rd7,Re8,d5,Kg1,d4,cxd4,cxd4,Kf2', 'd3,Re1,d2', 'https://lichess.org/training/a4aPN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A4D4X', 'Classical', 'calculator77', 2122, 'Rookie1243', 2021, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,b5,Bxf6,gxf6,Nd5,Bg7,c4,f5,cxb5,Nd4,b6,fxe4', 'Nc7+,Kf8,Nxa8', 'https://lichess.org/training/A4D4X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a4dX3', 'Blitz', 'Not_Super_Mario', 1895, 'ChessCheckmate1324', 1865, 'e4,c5,Nf3,e6,g3,Nc6,Bg2,d6,O-O,b6,d4,Bb7,Nc3,Nf6,d5,Ne5,Nxe5,dxe5,Bg5,exd5,exd5,Be7,Re1,Nxd5,Nxd5,Bxg5,Rxe5+,Kf8,f4,f6,fxg5,fxe5,Qf3+,Kg8,Rf1,Qxd5', 'Qxd5+,Bxd5,Bxd5#', 'https://lichess.org/training/a4dX3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a4E3Z', 'Blitz', 'nemoku_losti', 1705, 'waqader', 1733, 'e4,e5,Nc3,Bc5,f4,Qh4+,g3,Qf6,Nd5,Qd8,fxe5,c6,Nc3,Qg5,d4,Qg6,dxc5,Ne7,Nf3,O-O,Be3,Na6,Bc4,b5,Bd3,Nb4,Qd2,Nxd3+,cxd3,a5,O-O,a4,b4,axb3,axb3,Rxa1,Rxa1,Bb7,b4,Qh5,Ne2,Qxf3,Nf4,Ng6,Bf2,Nxf4,gxf4,Qg4+,Kh1,d5,Qe3,dxe4,dxe4,Bc8,Rg1,Qh5,Rg5,Qh6,Qd3,Be6,Qd6,Qh3,Rg2,h6,f5,Bc4,Qxc6,Qd3,Qd6,Qf1+,Bg1,Ra8,c6,Ra1,c7,Qf3,c8=Q+,Kh7,Qd2', 'Rxg1+,Kxg1,Qf1#', 'https://lichess.org/training/a4E3Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A4e4O', 'Rapid', 'premkrokuss', 1868, 'semseddinmehdiyev', 1879, 'e4,e5,Nc3,Nf6,f4,d6,fxe5,dxe5,Nf3,Nc6,Bb5,Bg4,h3,Bh5,Bxc6+,bxc6,g4,Bg6,Nxe5,Nxe4,Nxe4,Bxe4,Qe2,Qd5,Nc4,Bc5', 'd3,O-O-O,dxe4', 'https://lichess.org/training/A4e4O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A4FUH', 'Rapid', 'litonbd100', 1829, 'chessmania19', 1811, 'e4,e5,Bc4,Nf6,Nc3,Bb4,Nge2,c6,a3,Ba5,d3,h6,O-O,O-O,h3,d5,exd5,cxd5,Ba2,Nc6,b4,Bb6,Na4,Bc7,f4,exf4,Nxf4,b6,Nc3,d4,Nce2,Qd6,Rf2,g5,Ng6,Qh2+,Kf1,Kg7,Nxf8,Bxh3,Ng1,Bg3,Nxh3,Rxf8,Rxf6,Kxf6,Qf3+,Kg7,Qxc6,Qh1+,Ng1,Bh2,Bb2', 'Qxg1+,Ke2,Qe3+', 'https://lichess.org/training/A4FUH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A4Gb7', 'Blitz', 'IM MI-DTB', 2429, 'IM Lennis2800', 2539, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,c6,e3,Nbd7,Bd3,h6,Bh4,Be7,Nf3,O-O,O-O,Nh5,Bxe7,Qxe7,Qd2,Re8,Ne1,Nhf6,Nc2,Ne4,Nxe4,dxe4,Bc4,Nb6,Bb3,a5,a3,Qg5,Kh1,Be6,Qc3,Qb5,Bxe6,Rxe6,b3,Qg5,Rfc1,Rg6,Rg1,Nd5,Qd2,Qf5,Rgc1,Rg5,Ne1,Rh5,Kg1,Re8,b4,a4,Qc2,Re6,Qxa4,Kh7,Qa8,Rf6,Ra2,Nxe3,Qxb7,Ng4,Rc5,Qg6,Rxh5,Qxh5,h3,Ne3,fxe3', 'Qd1,Kh2,Qxe1', 'https://lichess.org/training/A4Gb7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a4hWi', 'Blitz', 'CM vovaches', 2490, 'FM Weetik', 2469, 'Nf3,Nf6,d4,d6,Nbd2,Nbd7,e4,e5,dxe5,dxe5,Bc4,Be7,O-O,O-O,Qe2,c6,Rd1,Qc7,Nf1,b5,Bb3,Nc5,Ng3,a5,a3,Nxb3,cxb3,Re8,Bg5,Be6,Qc2,a4,bxa4,bxa4,Rdc1,Rec8,Qc3,Ra5,Nd2,Rb5,Nf5,Bxf5,exf5,h6,Bxf6,Bxf6,Ne4,Be7,Qc4,Qb7,Qxa4,Rxb2,h3,c5,f6,Bxf6,Nxf6+,gxf6,Qg4+,Kf8,Rd1,Ke7,a4,Rb4,Qh5,Rd4,Rdb1,Qd5,Qxh6,c4,Rb5,Qc6,Rab1,c3,Rb7+,Rc7,Rb8', 'c2,Qf8+,Ke6', 'https://lichess.org/training/a4hWi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A4ISP', 'Classical', 'Mohamed_El-wakel', 1791, 'hany_nyz', 1795, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Ne5,Bb3,Nf6,Bf4,Bd6,Nb5,O-O,Nxd6,cxd6,Qxd6,Nc6,Nc3,Re8,e5,Ng4,Nb5,Ngxe5,Nc7', 'Nc4+,Kf1,Nxd6', 'https://lichess.org/training/A4ISP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A4JsV', 'Rapid', 'Nikolka111', 1807, 'ringo3400', 1833, 'd4,d5,Bf4,Nf6,Nf3,e6,e3,Nc6,h3,Be7,Bd3,Nb4,c4,Nxd3+,Qxd3,Nh5,Bh2,Nf6,cxd5,exd5,Nc3,c6,O-O,O-O,a4,a6,Ne5,Ne8,Rab1,f6,Nf3,Nd6,b4,Bf5,Qe2,Bxb1,Rxb1,Nc4,b5,Na3,Rb3,axb5,axb5,Nxb5,Nxb5,cxb5,Rxb5,Ra1+,Ne1,Qd7,Rb6,Rfa8,Bg3,R8a2,Rb2,Rxb2,Qxb2,Rxe1+,Kh2,Bd6,Qc3,Bxg3+,fxg3,Rb1,Qa5,Rb5,Qa8+,Kf7,Qa4,Qc6,g4,Qc7+,Kg1,Rb1+,Kf2,Rb2+,Kf3,Qc2,Qd7+,Kg6', 'Qe8+,Kh6,Qh5#', 'https://lichess.org/training/A4JsV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a4laU', 'Blitz', 'youazeem_player', 2412, 'FM sergeikim2003', 2473, 'd4,Nf6,Nf3,g6,g3,Bg7,Bg2,O-O,O-O,d6,c4,Nbd7,Nc3,e5,e3,Re8,Nd2,c6,b3,Qe7,Bb2,Nf8,Re1,h5,h3,N8h7,Nce4,Nxe4,Nxe4,Nf6,Nc3,e4,d5,c5,f3,exf3,Qxf3,Ne4,Qxe4,Qxe4,Nxe4,Bxb2,Nxd6,Bxa1,Nxe8,Be5,Rf1,Bf5,g4,hxg4,hxg4,Bxg4,Nf6+,Bxf6,Rxf6,Rd8,e4,Kg7,e5,Re8,Rf4,Bf5,d6,Rxe5', 'Rxf5,Rxf5,d7', 'https://lichess.org/training/a4laU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a4LPx', 'Blitz', 'kebeeshark', 1749, 'rickyrocky', 1751, 'e4,Nc6,Nc3,e5,Nf3,Bc5,d4,exd4,Nd5,Nge7,Bg5,O-O,a3,d6,b4,Bb6,b5,f6,Bc4,Nxd5,Bxd5+,Kh8,Bf4,Ne7,Bb3,Bg4,h3,Bh5,O-O,Ng6,Bh2,Ne5,g4,Bg6,Re1,Qd7,a4,h5,Bxe5,fxe5,Nh4,Bf7,Kh2,Bxb3,cxb3,Rxf2+,Kg3,Qf7,Qc1,hxg4,hxg4,Rf8,Rh1,d3', 'Ng6+,Kg8,Rh8#', 'https://lichess.org/training/a4LPx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A4moN', 'Classical', 'Chris63', 1820, 'lucasnep97', 1830, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bd3,Nf6,Nc3,Bc5,O-O,O-O,Bg5,h6,Bh4,Be7,f4,Nxe4,Bxe7,Nxc3,Bxd8,Nxd1,Rfxd1,Rxd8,fxe5,Re8,Re1,Re6,Re3,d6,Rae1,dxe5,Bf5,Rf6,Bxc8,Rxc8,Rxe5,Rd8,Re8+,Rxe8,Rxe8+,Kh7,Ra8,Rd6,Rxa7,Rd1+,Kf2,Rd2+,Kf3,Rxc2,Rxf7,Rxb2,a4,Rb1,a5', 'Rf1+,Ke4,Rxf7', 'https://lichess.org/training/A4moN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A4ncC', 'Blitz', 'cemocan12', 1670, 'hferhat', 1714, 'd4,b6,e3,Bb7,Nf3,e6,c4,Nf6,a3,Be7,b4,O-O,c5,bxc5,bxc5,c6,Be2,Ba6,Nc3,Qa5,Bd2,Bxe2,Nxe2,Qc7,O-O,d6,Bb4,dxc5,dxc5,Na6,Qc2,Nd5,Qc4,Naxb4,axb4,a5,bxa5,Rxa5,Rxa5,Qxa5,Rc1,Rb8,h3,Rb4,Qc2,Rb5,Nfd4,Rxc5,Qb3,Rxc1+,Nxc1,Qe1+,Kh2,Qxc1,Qb8+,Bf8,g3,Qd2,Kg2,Nf6,Nxc6,Qd6,Qc8,Qd5+,Kh2,Qd6,f4,Qd2+,Kg1,Qe1+,Kg2,Qe2+,Kh1,Qf3+,Kh2,Qf2+,Kh1,Qe1+,Kg2,Qd2+,Kf3,Qd5+,Ke2,Qb5+,Kf3,Qd5+,Ke2,Qd6,Kf3,h6,g4,Kh7,Ne5,Qd5+,Kg3,Bd6,Nxf7,Bxf4+,exf4,Ne4+,Kh4', 'g5+,Nxg5+,hxg5+,fxg5,Qxg5#', 'https://lichess.org/training/A4ncC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a4o47', 'Classical', 'chess_dot_gone', 2037, 'BigaKorleone', 1899, 'e4,c5,Nc3,e6,f4,d6,Nf3,Nc6,Bb5,a6,Bxc6+,bxc6,O-O,d5,Qe1,Bd6,e5,Bc7,Ne2,Nh6,Ng3,c4,d4,cxd3,cxd3,O-O,f5,Nxf5,Nxf5,exf5,Qg3,f6,d4,Qe7,exf6,Rxf6,Ne5,c5,Bg5,cxd4,Rae1,h6,Bxf6,Qxf6,Nd7,Qc6,Ne5,Qa4,Qb3,Qxb3,axb3,Rb8,Nc6,Ra8,Ne7+,Kh7,Nxc8,Rxc8,Rxf5,Rb8,Re7,Bd6,Rd7,Bb4,Rff7,d3,Rxg7+,Kh8,Rh7+,Kg8,Rxh6,d2,Rxd5,Rf8,Rxa6', 'Bc5+,Rxc5,d1=Q#', 'https://lichess.org/training/a4o47');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a4oju', 'Rapid', 'ranmaru2103', 1989, 'oktay', 1862, 'e4,f5,exf5,Nf6,d4,d5,Bd3,e6,fxe6,Bd6,Nf3,O-O,O-O,Bxe6,Bg5,Bg4,Nbd2,Nc6,c3,Qe8,Qc2,Qh5,Bxf6,Rxf6,Ne5,Nxe5,dxe5,Bxe5,g3,Rh6,h4,g5,Rfe1,gxh4,Rxe5,Qxe5,Nf1,Rf8,Qd2,hxg3,Qxh6,gxf2+,Kg2,Bf3+,Kh3,Rf6,Qxh7+,Kf8,Qh8+,Ke7,Qh7+,Kd6,Ng3,Qe6+,Bf5,Rh6+,Nh5,Rxh7,Bxe6,Rxh5+,Kg3,Kxe6,Kxf3,Rf5+,Kg2,Ke5,Kf1,Ke4,Rd1,c6,Rd4+,Ke3,Rg4,Rh5,Rg3+,Kd2,Rg7,b5,Rxa7,Kc2,Rc7,Rh6,b3,Kxc3,Kxf2,Rh2+,Ke3,Rxa2,Rxc6+,Kxb3,Rc5,b4,Rxd5,Rc2,Rh5,Kb2,Rb5,b3,Kd3,Rc7,Kd2,Rd7+,Ke2,Ka2,Ra5+,Kb1,Rb5,b2,Rc5,Rb7,Kd2,Rh7,Rb5,Rh3,Rb8,Ka2,Kc2,Rh2+,Kc3,b1=Q', 'Ra8#', 'https://lichess.org/training/a4oju');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a4PBt', 'Rapid', 'se4jao', 1637, 'bakhshali2017', 1777, 'c4,c6,g3,e5,Bg2,d5,Qc2,dxc4,Qxc4,Be6,Qa4,Bc5,Nc3,Nf6,d3,Nbd7,Bxc6,bxc6,Qxc6,Bd5,Nxd5,Nxd5,Qxd5,Qa5+,Bd2', 'Bxf2+,Kxf2,Qxd5', 'https://lichess.org/training/a4PBt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a4PMM', 'Rapid', 'Sanchez422', 1746, 'Bokrenok', 1733, 'e4,c6,Nf3,d5,e5,Bg4,d4,e6,Be2,Ne7,h3,Bh5,Bg5,Qb6,b3,h6,Bxe7,Bxe7,c4,Bxf3,Bxf3,dxc4,bxc4,O-O,O-O,Rd8,c5,Qb2,Qb3,Qxa1', 'Nc3,Qxf1+,Kxf1', 'https://lichess.org/training/a4PMM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A4Py4', 'Rapid', 'MakeChessGreatAgain', 2224, 'chtchii', 1666, 'e4,e5,Nc3,Bc5,f4,Qh4+,g3,Qe7,Nd5,Qd8,Nf3,Nf6,b4,Nxd5,bxc5,Ne7,fxe5,O-O,d4,d6,d5,dxe5,Nxe5,c6,d6,Ng6,Nf3,b6,Bg2,bxc5,O-O,Ba6,Rf2,Qf6,Rb1,Nd7,Bh3,Nde5,Bg5,Nxf3+,Rxf3,Qxg5,Rf5,Qe3+,Rf2,Qxe4,d7,Rfd8,Bg2,Qe6,Qf3,Qxd7,Qxc6,Qxc6,Bxc6,Rab8,Rxb8,Rxb8,Bd5,Rf8,Rf3,h6,Ra3,Be2,Rxa7,Bg4,a4,Be6,Bxe6,fxe6,a5,Rf7', 'Rxf7,Kxf7,a6,Ne5,a7', 'https://lichess.org/training/A4Py4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A4rtj', 'Rapid', 'TheWanderingKnight72', 2215, 'Stas1977tim', 1999, 'd4,d5,c4,dxc4,e4,Nf6,e5,Nd5,Bxc4,e6,Nf3,Nd7,O-O,N7b6,Bb5+,Bd7,Bxd7+,Qxd7,Nc3,Be7,a3,O-O,Nxd5,Nxd5,Be3,h6,Rc1,c6,Qd2,Rac8,Bxh6,gxh6,Qxh6,Bd8,Ng5,f6,Qg6+,Kh8,exf6,Rxf6,Qh5+,Kg8,Ne4,Rf7,f4,Nf6,Qg5+,Kf8,Qh6+,Kg8,Qg5+,Kf8,Qh6+,Ke7,Ng5,Ng4,Qg6,Qxd4+,Kh1,Rxf4,Qh7+,Kd6,Rxf4,Qxf4,Rd1+,Kc5', 'Nxe6+,Kb6,Nxf4', 'https://lichess.org/training/A4rtj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a4SD3', 'Rapid', 'tlanute', 1786, 'delta_gate', 1794, 'e4,d6,Nf3,Nf6,Bb5+,c6,Bd3,g6,O-O,Bg7,h3,O-O,c3,e5,Bc2,Be6,d4,Nh5,Re1,exd4,cxd4,Qd7,Be3,Bxh3,gxh3,Qxh3,Ng5,Qh4,Nd2,Nf4,Ndf3', 'Qg4+,Kf1,Qg2#', 'https://lichess.org/training/a4SD3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A4usv', 'Blitz', 'PetersenGraph', 1998, 'ckjdj', 1913, 'd4,d5,Bg5,f6,Bh4,c6,Nf3,Nd7,e3,Qc7,Bd3,e5,dxe5,fxe5,Bg3,Bd6,Bf5,Ne7,Be6,Rf8,Nbd2,Rf6,Bh3,Nf5,Qe2,Nxg3,hxg3,h6,O-O-O,Nc5,Nh4,Bxh3,gxh3,O-O-O,Kb1,Rdf8,Rhf1,e4,f3,exf3,Nhxf3,Bxg3,Nd4,Rf2,Rxf2,Rxf2,Qg4+,Kb8,N2b3,Ne4,Ne6,Qb6,Qxg7,a5,Ned4,a4,Nc1,Nd2+,Rxd2,Rxd2,Qxg3+,Ka7,Nd3,Rd1+,Nc1,a3,Nb3,Qb4,Qf2,c5,Qe2,Rh1,Qg2', 'Rxc1+,Kxc1,Qe1#', 'https://lichess.org/training/A4usv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A4Vbq', 'Blitz', 'jituaacharya', 1773, 'radar3', 1719, 'b3,Nf6,Bb2,d5,d4,Nc6,Nd2,Bf5,e3,e6,a3,Bd6,Ngf3,O-O,Be2,Ne7,O-O,Ne4,Nxe4,dxe4,Nh4,Nd5,Nxf5,exf5,c4,Nf6,d5,Re8,Qc2,Be5,Bxe5,Rxe5,Rad1,Ne8,Qc3,Qe7,Rd2,b6,Rfd1,Nd6,b4,g5,c5,bxc5,bxc5,Ne8,Bb5,f4,Bxe8,Rxe8,d6,cxd6,cxd6,Qe6,d7,Rd8,Qc7,Qe7,Qxa7,f3,g3,Qe6,Kh1,Qh3,Rg1,g4,Qc7', 'Qxh2+,Kxh2,Rh5#', 'https://lichess.org/training/A4Vbq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A4VW2', 'Rapid', 'ozgurtunc', 1865, 'okei', 1893, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qa5,Bd2,Qb6,Qc2,cxd4,cxd4,Nxd4,Nxd4,Qxd4,Bc3,Bb4', 'Qa4+,Bd7,Qxb4,Qxb4,Bxb4', 'https://lichess.org/training/A4VW2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a4xPV', 'Classical', 'The_North_Remembers', 2212, 'DanBeardzarian', 2236, 'e4,c5,Nf3,d6,Bb5+,Nd7,Ba4,Nf6,O-O,e6,Re1,Be7,c3,O-O,d4,cxd4,cxd4,e5,Nbd2,a6,Nf1,b5,Bc2,Re8,Ng3,Qc7,Bd2,Bb7,Rc1,Rac8,h3,Qb8,Bb3,h6,Bc2,Bf8,Nf5,exd4,N3xd4,Qa8,f3,d5,exd5,Bxd5,Rxe8,Rxe8,Bb3,Nc5,Bxd5,Qxd5,Bb4,Rd8,Qc2,Ne6,Bxf8', 'Nxd4,Ne7+,Kxf8,Nxd5,Nxc2', 'https://lichess.org/training/a4xPV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A4Yd3', 'Rapid', 'STAN1965', 2038, 'KiriKhan', 2072, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Be3,Nf6,c4,Bg4,h3,Bh5,Be2,e6,Nc3,Bb4,Ne5,Bxe2,Qxe2,Nxe5,dxe5,Ne4,Bd2,Nxd2,Qxd2,d4,Qc2,dxc3,Qa4+,Qd7,Qxb4,Qd2+,Kf1,cxb2,Qb5+,Kd8,Re1,Qd3+,Kg1,Rc8,Kh2,Qxc4,Rd1+,Ke7,Rd7+,Kf8', 'Rd8+,Rxd8,Qxc4', 'https://lichess.org/training/A4Yd3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a53aj', 'Rapid', 'FanatNakovalen', 1656, 'Art_designer', 1655, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,c6,Be2,h6,O-O,Bf5,d3,e6,Re1,Nf6,Be3,Be7,a3,Ng4,Qd2,Nxe3,Qxe3,O-O,b4,Nd7,Rad1,Bd8,Ne4,Qe7,Ng3,Bg4,h3,Bxf3,Bxf3,Bc7,Be4,Nf6,c4,Nxe4,dxe4,Rad8,e5,Rxd1,Rxd1,Rd8,Rxd8+,Qxd8,Qxa7,Qd3,Qxb7,Bxe5,Qxc6,Qxa3,Qe8+,Kh7,Qxf7,Qxb4,Qxe6', 'Qe1+,Nf1,Bh2+,Kxh2,Qxe6', 'https://lichess.org/training/a53aj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a5ACo', 'Classical', 'pc_all', 1775, 'tarekanwer', 1929, 'e4,c5,Nc3,Nc6,g3,g6,Bg2,Bg7,f4,e6,Nf3,Nge7,O-O,O-O,d3,d6,Be3,Nd4,Rb1,a6,e5,Nef5,Bf2,Nxf3+,Qxf3,Nd4,Qd1,dxe5,fxe5,Bxe5,Na4,Bd6,c3,Nf5,Nxc5,Rb8,Ne4,Bc7,Bc5,Bb6,b4,Bxc5+,bxc5,Ne3,Nf6+,Kg7,Qe2,Nxf1,Rxf1,b6,Qe5,Kh8,c6,Qxd3,Nh5+,f6,Rxf6,Kg8,Rxf8+,Kxf8,Qg7+,Ke8,Nf6+,Kd8,Qf8+,Kc7,Qe7+,Bd7,Nxd7,Qe3+,Kf1,Qd3+,Kf2,Qd2+,Kf3,Qd5+,Kf2,Qd2+,Kf3,Qd3+,Kg4', 'Qf5+,Kh4,Qh5#', 'https://lichess.org/training/a5ACo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a5cpy', 'Rapid', 'BlueElvisXXII', 1789, 'mateking2', 1834, 'e4,d5,exd5,Nf6,Nc3,Nxd5,d4,g6,Qf3,Be6,Bc4,c6,Nxd5,Bxd5,Bxd5,cxd5,Be3,Bg7,O-O-O,Nc6,Nh3,O-O,Ng5,Rc8,Qh3,h5,g4,Qd7,f4,f6,Nh7,Kxh7,f5,Nb4', 'fxg6+,Kg8,Qxh5,Bh6,Qxh6', 'https://lichess.org/training/a5cpy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a5dmP', 'Classical', 'mietk', 1765, 'naoseijogar', 2025, 'e4,a6,d4,h6,c4,d6,Nc3,e6,Nf3,Nf6,h3,Be7,Be2,O-O,O-O,Nbd7,Be3,e5,d5,Nh7,Qc2,Ng5,b4,Nxf3+,Bxf3,Bg5,Qd2,Bxe3,Qxe3,Nf6,c5,Nh7,cxd6,cxd6,Na4,Ng5,Nb6,Nxf3+,gxf3,Rb8,Kg2,Qh4,Rh1,f5,Rag1,f4,Qc3,Rf6,Nxc8,Rg6+,Kf1,Rxg1+,Rxg1', 'Qxh3+,Ke2,Rxc8', 'https://lichess.org/training/a5dmP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a5eHS', 'Rapid', 'SiavashHuman', 1922, 'criminal1504', 2089, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,g6,c3,Bg7,Bg5,d6,Bb5,Bd7,Nf3,Nf6,O-O,O-O,Re1,Ne5,Nxe5,Bxb5,Nf3,Nd7,b3,h6,Be3,Qa5,b4,Qc7,Qd2,g5,Nd4,Bc4,Na3,Ne5,Nxc4,Nxc4,Qc1,Nxe3,Rxe3,Rac8,Nf5,e6,Nxg7,Kxg7,Qd2,b5,Rae1,Qc4,e5,d5,h4,Qxh4,Rh3,Qc4,Ree3,d4,cxd4,Qc1+,Qxc1,Rxc1+,Kh2,Rc2,f4,g4,Rh4,Rxa2,Rxg4+,Kh7,Reg3,a5,bxa5,b4,Rb3,Rxa5,Rxb4,Rd5,Rh4,Rfd8,Kh3,Rxd4,Rxd4,Rxd4,g3,Kg6', 'f5+,Kxf5,Rxd4', 'https://lichess.org/training/a5eHS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A5HWN', 'Blitz', 'SlowGrinder', 2507, 'FM Yahuu99', 2422, 'b3,a5,Bb2,a4,c4,axb3,axb3,Rxa1,Bxa1,Nf6,g3,e6,Bg2,Be7,Nf3,O-O,O-O,b6,d3,Bb7,e4,d6,Nbd2,e5,b4,Bc6,Re1,Nbd7,d4,Bb7,Qb3,exd4,Nxd4,g6,f4,Qa8,Nb5,Bd8,Bc3,Re8,Ra1,Qb8,Qc2,c6,Nd4,c5,Nb5,Bc6,bxc5,Nxc5,Nxd6,Qxd6,e5,Qd7,exf6,Bxg2,Kxg2,Qc6+,Nf3,Bxf6,Bxf6,Qxf6,Rb1,Re3,Ne5,Qd6,Rd1,Qc7,Qf2,Qb7+,Kg1,Re4,Rd8+,Kg7,Qb2,f6,Ng4,Re6,Qd2,Qe7,f5', 'Re1+,Kf2,Ne4+,Kxe1,Nxd2+', 'https://lichess.org/training/A5HWN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A5ikd', 'Rapid', 'zolight', 1850, 'raj7saggi', 1870, 'e4,e5,Nf3,d6,Nc3,Nf6,d4,exd4,Nxd4,Be7,Bc4,Nbd7,Bf4,a6,e5,dxe5,Nf5,O-O,Nxe7+,Qxe7,Bg5,h6,Bh4,Re8,Ne4,Qb4+,Nd2,Qxb2,O-O,Qd4,Bg3,Nc5,c3,Qxc3,Rc1,Qd4,Qe2,Nce4,Nxe4,Nxe4,Rfd1,Nxg3,hxg3,Qb6,Qh5,Be6,Bxe6,Rxe6,Rd7,Rf6,Qe2,Rc8,Rcd1,Qc5,R7d5,Qb6,Rxe5,c6,Re7,Rd8', 'Rxd8+,Qxd8,Re8+,Qxe8,Qxe8+', 'https://lichess.org/training/A5ikd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a5jii', 'Blitz', 'ChemicalMax', 1591, 'Dolphin12q', 1555, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Bb5+,Bd7,Bxd7+,Nbxd7,O-O,e6,Bg5,Bd6,Re1,h6,Bxf6,Nxf6,Nc3,O-O,Nb5,Be7,c3,a6,Na3,Bxa3,bxa3,Qa5,Qb3,Rfc8,Qxb7,Rab8,Qe7,Qxc3,Ne5,Rf8,Nd7,Rbe8,Nxf6+,gxf6,Qxf6,Rc8,h3,Rc4,Re3,Qxd4,Rg3+,Kh7', 'Rg7+,Kh8,Qxh6#', 'https://lichess.org/training/a5jii');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a5K6F', 'Rapid', 'pasha101', 1703, 'iancudorinmarian', 1723, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nf6,Bc4,e6,Nf3,Bb4,O-O,O-O,Qe2,d5,Rd1,Qa5,exd5,Bxc3,bxc3,exd5,Bb3,Bg4,Qe3,Re8,Rxd5,Qxd5,Bxd5,Rxe3,Bxb7,Rxc3,Bxa8,Rd3,Bf4,Nbd7,Bc6,h6,Bxd7,Nxd7,h3,Bxf3,gxf3,Rxf3,Bg3,Ra3,h4,Ne5,Bxe5,f6,Bb2,Rh3,Bd4,a6,Rb1,Rxh4,Rb8+,Kh7,Be3,Ra4,Rb2,g5,Kg2,Kg6,Kg3,h5,Kh3,Ra3,Re2,f5,Kg2,f4,Bc5', 'f3+,Kf1,fxe2+', 'https://lichess.org/training/a5K6F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a5kDv', 'Rapid', 'Avthomas2', 1830, 'olga1967', 1850, 'e4,d6,Nc3,c6,f4,h6,Nf3,g5,Bc4,g4,Nd4,Bg7,Nde2,Nd7,d3,a5,f5,a4,a3,Bf6,O-O,h5,Bf4,h4,Qd2,h3,g3,Ne5,Ba2', 'Nf3+,Rxf3,gxf3', 'https://lichess.org/training/a5kDv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a5ovP', 'Blitz', 'diegolongoni', 2074, 'Fianchettoed_rook', 2017, 'd4,f5,Nc3,Nf6,Bf4,e6,f3,Bb4,Qd2,O-O,O-O-O,Nd5,Nh3,Bxc3,bxc3,Qe7,Kb1', 'Qa3,c4,Nc3+,Qxc3,Qxc3', 'https://lichess.org/training/a5ovP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A5Qxp', 'Rapid', 'Bharat24287', 1736, 'swetha2006', 2190, 'f3,e5,e4,Nf6,c4,Bc5,Nc3,Nc6,Nge2,a6,d3,d6,Bg5,h6,Bxf6,Qxf6,Qd2,Nd4,Nxd4,Bxd4,O-O-O,c6,Kb1,b5,cxb5,axb5,Ne2,Bb6,d4,Be6,d5,cxd5,exd5,Bf5+,Ka1,O-O,Ng3,b4,Nxf5,Qxf5,Bd3,Qf6,Qc2,Rfc8,Qb3,Bd4,Rd2,Qf4,Rc2,Rxc2,Qxc2,Qe3,Rc1,b3', 'Qc8+,Rxc8,Rxc8#', 'https://lichess.org/training/A5Qxp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a5SNO', 'Rapid', 'Ervinn', 1648, 'Skitalec77033', 1987, 'e4,Nc6,Nf3,d5,e5,Bf5,d4,e6,Bb5,Ne7,Bg5,f6,exf6,gxf6,Bxf6,Rg8,O-O,a6,Bxc6+,bxc6,Ne5,Qd6,Qh5+,Bg6,Nxg6,hxg6,Qh7,O-O-O,Bxe7,Bxe7,Nd2', 'Rh8,Qxh8,Rxh8', 'https://lichess.org/training/a5SNO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a5uuO', 'Rapid', 'manraj_ghale', 1763, 'NIRANJANSAHU', 1733, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb3,d6,Nc3,Be7,Be3,Nf6,Qd2,O-O,O-O-O,Ng4,h4,Nxe3,Qxe3,f5,Bd3,f4,Qf3,Rf6,Nd5,Rh6,Bc4,Kh8,g3,a6,gxf4,Bxh4,Rh2,b5,Bd3,exf4,Kb1,Ne5,Qxf4,Ng4,Rg2,Bg5,Qg3,Bh4,Qf4,Ne5,Rh1', 'Bg5,Rxh6,Bxf4', 'https://lichess.org/training/a5uuO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a5v62', 'Rapid', 'King_trapper', 1904, 'Ravi_Dubey', 1887, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke6,Nc3,Nb4,a3,Nxc2+,Kd1,Nxa1,Nxd5,Kd6,d4,Qe8,dxe5+,Kc5,Bb3,Qxe5,Be3+,Kc6,Nb4+,Kd7,Qf7+,Be7,Ke2,Nxb3', 'Rd1+,Nd4+,Rxd4+,Qxd4,Bxd4', 'https://lichess.org/training/a5v62');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a5vf7', 'Rapid', 'Vega2015', 1802, 'Springerschach70', 1761, 'd4,f5,Nf3,g6,Bg5,Bg7,e3,c5,c3,d5,Qa4+,Bd7,Bb5,cxd4,cxd4,a6,Nc3,Bxb5,Nxb5,Nc6,Nc3,h6,Bh4,g5,Bg3,b5,Qb3,Nf6,Ne5,Na5,Qd1,O-O,b4,Nc4,Nxc4,bxc4,O-O,Nh5,Be5,g4,Bxg7,Kxg7,b5,axb5,Nxb5,Qa5,a4,Nf6,f3,h5,fxg4,fxg4,Rf5,Kg6,Qc2,Ne4', 'Rxd5,Qd2,Qxe4+', 'https://lichess.org/training/a5vf7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a5vvl', 'Rapid', 'Pete14Pete', 1793, 'mvreal63', 1621, 'e4,c6,d4,d5,e5,Bf5,c4,e6,c5,Nd7,h4,h6,g4,Be4,f3,Bh7,g5,Be7,f4,f6,g6,Bxg6,f5,Bh7,fxe6,Nf8,Bd3,Bxd3,Qxd3,fxe5,dxe5,Bxh4+,Ke2,Nxe6,Qg6+,Kd7,Nf3,Ne7,Qg4,g5,Nd4,Qg8,Rf1,Rf8', 'Rxf8,Qxf8,Qxe6+', 'https://lichess.org/training/a5vvl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A5xbp', 'Rapid', 'MSTSC', 1672, 'Nobomuraderato', 1654, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,c3,Bc5,d3,Qf6,O-O,d6,Bd2,Nh6,Qc1,dxc3,Bxc3,Qg6,g3,Ng4,Qf4,Bxf2+,Rxf2,Nxf2,Kxf2,Be6,Bxe6,fxe6,h4', 'Rf8,Qxf8+,Kxf8', 'https://lichess.org/training/A5xbp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a5ysA', 'Rapid', 'Tiagoares', 1659, 'AylanS', 1580, 'e4,c6,d4,d5,e5,Bf5,Nc3,e6,h3,c5,Nf3,cxd4,Qxd4,Nc6,Bb5,Qc7,Bxc6+,bxc6,O-O,Bxc2,Bg5,Be7,Rac1,Bg6,Bxe7,Nxe7,Nb5,Qb6,Nd6+,Kd7,Qxb6,axb6,Nh4,c5,Nxg6,fxg6,Rc2,Rxa2,f4,Nf5,Nxf5,gxf5,Rfc1,h6,Kf2,g5,Kf3,Ke7,g4,c4,gxf5,exf5,b3,cxb3', 'Rc7+,Kf8,Rc8+,Kg7,R1c7+', 'https://lichess.org/training/a5ysA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a5Z1u', 'Rapid', 'PAWAN-SINGH', 1754, 'Elodonor', 1873, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,d4,Bf5,Bc4,e6,O-O,c6,Re1,Be7,Bf4,Nd5,Bd2,Qd8,Ne4,h6,Qe2,O-O,Ng3,Bxc2,Bxd5,Qxd5,Bxh6,Bg6,Bf4,Nd7,Be5,Bf6,Bxf6,Nxf6,Ne5,Qxd4,Nxg6,fxg6,Qxe6+,Kh8,Qh3+,Nh5,Nxh5,Qxf2+,Kh1,gxh5,Qxh5+,Kg8,Qh3,Rae8,Rg1,Re2,Qb3+,Qf7,Qc3,Rf2,b3,Rf1,Raxf1,Qxf1,Qc4+,Qxc4,bxc4,Rf2,Ra1,Rc2,h3,Rxc4,Rb1,b6,Kh2,Rc2,a4,c5,a5,bxa5,Ra1,Rb2,Rxa5,c4,Rxa7,c3,Rc7,c2,Kg3,Kh7,Rc3,Kg6,Kf3', 'Rb3,Rxb3,c1=Q', 'https://lichess.org/training/a5Z1u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A5zF1', 'Rapid', 'lisandrodemarinis', 1638, 'Bhaiii', 1647, 'Nf3,c5,e4,d6,c3,e5,d3,Nc6,g3,Be7,Bg2,Nf6,O-O,O-O,Re1,Nh5,Be3,f5,exf5,Rxf5,g4,Rxf3,Qxf3,Nf4,Bxf4,exf4,Qxf4,Ne5,Rxe5,dxe5,Qxe5,Qxd3,Qxe7,Qd1+,Bf1,Qxg4+,Bg2', 'Qd1+,Bf1,Bh3,Nd2,Qxa1', 'https://lichess.org/training/A5zF1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a61Lw', 'Rapid', 'Marea_Unire_1918', 1709, 'Onanice', 1664, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,e6,Nf3,Be7,e4,Nxe4,Bxe7,Qxe7,Nxe4,dxe4,Nd2,f5,g3,O-O,Bg2,Kh8,O-O,Qb4,Qc2,c5,dxc5,Qxc5,Nb3,Qe7,Rad1,b6,Rfe1,Bb7,h3,Nd7,g4,Nf6,gxf5,exf5,Nd4,Nh5,f3,Nf4,Nxf5,Qg5,fxe4,Bxe4,Qxe4,Qxf5', 'Qxf5,Rxf5,Bxa8', 'https://lichess.org/training/a61Lw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a65M3', 'Rapid', 'FortuneC', 1686, 'machsimo', 1679, 'd4,d5,Bf4,Nf6,e3,Bf5,Nf3,h6,Bd3,Bg4,h3,Bxf3,Qxf3,e6,Be5,Be7,Nc3,a6,a3,Nc6,Bxf6,Bxf6,O-O,Qd6,b4,b5,Rfe1,O-O,Ne2,Bg5,c3,e5,dxe5', 'Nxe5,Qg3,Nxd3,Qxd6,cxd6', 'https://lichess.org/training/a65M3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A69fL', 'Blitz', 'Rioplata', 2099, 'Mr_CASMA', 2110, 'd4,Nf6,g3,d5,Bg2,Bf5,Nd2,c6,f3,e6,Nh3,Bxh3,Bxh3,c5,c3,Nc6,e3,h5,Bg2,h4,g4,h3,Bf1,Bd6,Bb5,cxd4,Bxc6+,bxc6,cxd4,Nd7,O-O,a5,Qa4,Qc7,Rf2,Nb6,Qc2,Rc8,e4,Bxh2+,Rxh2,Qg3+,Kh1', 'Qe1+,Nf1,Qxf1#', 'https://lichess.org/training/A69fL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A69HK', 'Rapid', 'DVRazor', 2228, 'iksuar', 2042, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Qf6,e5,Nxe5,Qe2,Bd6,Bg5,Qf5,Bd3,Qe6,O-O,Nxf3+,Qxf3,Ne7,Nd2,f6,Rfe1,Be5,Nc4,d5,Nxe5,fxe5,Bxe7,Kxe7,Qh5,Kd6,c4,dxc3,bxc3,Bd7,c4,Bc6,Rxe5,Qf6,Rxd5+,Bxd5,Qxd5+,Ke7,Re1+,Kf8,Re3,Rd8,Qc5+,Kg8,Qxc7,Qd6', 'Re8+,Rxe8,Qxd6', 'https://lichess.org/training/A69HK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A6H4p', 'Rapid', 'kolbeck17', 1644, 'Foolad9170', 1763, 'e4,e5,Nf3,d6,c3,c6,d4,exd4,cxd4,Nd7,Bc4,Be7,O-O,Ngf6,Ng5,O-O,Qf3,h6,Nxf7,Rxf7,Re1,Nb6', 'Bxf7+,Kxf7,e5', 'https://lichess.org/training/A6H4p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a6Jpj', 'Rapid', 'RazYez', 1865, 'ritin123', 1866, 'e4,c5,Nf3,e6,Bc4,d5,exd5,exd5,Bb5+,Nc6,Nc3,Nf6,Qe2+,Be6,d4,cxd4,Nxd4,Qc7,Nxe6,fxe6,Qxe6+,Be7,Nxd5,Nxd5,Qxd5,Rd8,Qe4', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/a6Jpj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a6KfU', 'Rapid', 'Zeus771', 1804, 'MReyhani', 1831, 'e4,e5,Nf3,Nc6,Be2,Bc5,O-O,d6,h3,Nf6,d3,O-O,Bg5,b6,Nc3,Nb4,a3,Na6,Nd5,c6,Nxf6+,gxf6,Be3,Kh8,Bxc5,Nxc5,Nh2,Rg8,Kh1,Rg6,f4,exf4,Rxf4,Qg8,Bg4,f5,exf5,Bxf5,Qf3,Bxg4,Nxg4,Ne6,Rxf7', 'Ng5,Qf6+,Rxf6', 'https://lichess.org/training/a6KfU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a6lkC', 'Rapid', 'perdonaquetediga', 1642, 'Hellboyfromhell', 1633, 'e4,c5,Bc4,d6,d3,a6,a4,Nc6,h3,Nf6,Nf3,e6,O-O,Be7,Be3,O-O,Nc3,e5,Nd5,Nd4,Nxe7+,Qxe7,c3,Nc6,Nh2,Be6,Ba2,b5,axb5,axb5,Bxe6,fxe6,Rb1,d5,exd5,exd5,f4,d4,Bd2,e4,dxe4,Nxe4,Re1,Rae8,Qb3+,Kh8,Qxb5,Na7,Qa6,Qh4,Qxa7', 'Qf2+,Kh1,Ng3#', 'https://lichess.org/training/a6lkC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A6lQv', 'Rapid', 'R_ook2_D2', 2243, 'Ap8585', 2281, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Bc4,c5,Ne2,Nc6,Be3,O-O,O-O,Bg4,f3,Na5,Bxf7+,Rxf7,fxg4,Rxf1+,Kxf1,Qd7,h3,Nc4,Qd3,Ne5,Qc2,Nc4,Bf2,Rf8,Kg1,Kh8,Rf1,b5,Qd3,Rd8,d5,Ne5,Qg3,c4,Bd4,Nd3,Bxg7+,Kxg7,Nf4,Nc5,Qe3,Rc8,Qd4+,Kg8,e5,a5,e6,Qd6,h4,Rf8,h5,g5,h6,Rf6,Nh5,Rg6,Rf7,Nxe6,dxe6,Qxd4+,cxd4,Rxe6,Rg7+,Kh8,Rf7,Kg8,Rf5,b4,Rxa5,Rc6,Rxg5+,Kf8,Nf4,b3,axb3,cxb3,Nd3,Rc3,Rf5+,Kg8,Rf3,Rc2,Nb4,b2,Rf1', 'Rc1,Nd3,Rxf1+,Kxf1,b1=Q+', 'https://lichess.org/training/A6lQv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a6mf9', 'Rapid', 'riXunchess', 2184, 'Bad_Santa', 2045, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bc4,e6,Nf3,Bb4,Bd2,Nge7,Qb3,O-O,a3,Ba5,O-O,a6,a4,Bc7,Rfd1,Na5,Qb4,Nxc4,Qxc4,d5,exd5,Nxd5,Bg5,f6,Bh4,g5,Bg3,Bxg3,hxg3,Qc7,Qb3,Nxc3,bxc3,Bd7,Nd4,Kg7,a5,e5,Nf3,Bc6,Rab1,Qf7,Qb6,Qe7,Nh2,h5,Nf1,Rfd8,Ne3,Kg6,Qb2,Be4,Rbc1,Rxd1+,Rxd1,Rd8,Re1,Qd7,Nf1,Bf5,Qc1,Qd3,Ne3,Be6', 'Rd1,Qxd1+,Nxd1', 'https://lichess.org/training/a6mf9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A6OgM', 'Rapid', 'cjturner', 1712, 'Duchess_Of_Prawns', 1843, 'c4,e5,Nc3,Nf6,g3,d5,cxd5,Nxd5,Bg2,Nxc3,bxc3,Nc6,Qb3,Bc5,Qb5,Bb6,Bxc6+,bxc6,Qxe5+,Be6,Qxg7,Rf8,Ba3,c5,d4,Qe7,Qxh7,Bd5,f3,O-O-O,Kf2,Rde8,Qf5+,Be6,Bxc5,Bxf5,Bxe7,Rxe7,e4,Bd7,Ne2,Rfe8,Rae1,Bb5,h4,Ba5,h5,f6,h6,Rh7,Nf4,Bxc3,Rd1,Bb4,Nd5,Be7,Rc1,c6,Nc3,Ba3,Nxb5,Bxc1,Nd6+,Kd8,Nxe8,Bb2,Nxf6,Bxd4+,Ke2,Bxf6,f4,Ke8,g4,Be7,g5,Kf7,Rg1,Kg6,f5+,Kh5,Kf3,Bxg5,Rh1+,Bh4,Kf4,Rxh6,e5,Rh7,f6,Kg6,Rg1+,Kf7,Rc1,Ke6,Rxc6+,Kd5,Rd6+,Kc5,Kf5,Rh5+,Ke6,Bg3,Kd7,Bxe5,Re6,Rh7+,Ke8,Kd5,f7,Kxe6,f8=Q', 'Rh8,Qxh8,Bxh8', 'https://lichess.org/training/A6OgM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a6pgg', 'Bullet', 'lucian26', 1542, 'hypermodernart', 1504, 'd4,Nc6,Nf3,d5,g3,Bf5,Bg2,Be4,Nbd2,Nxd4,c3,Bc2,Nxd4,Bxd1,Kxd1,e6,N2b3,c5,Nc2,c4,Nbd4,e5,Nf5,g6,Nfe3,d4,cxd4,exd4,Nxc4,d3,N2e3,dxe2+,Kxe2,Bc5,Bxb7,Rb8,Bc6+,Kf8,Nd5,Ne7', 'Bh6+,Kg8,Nf6#', 'https://lichess.org/training/a6pgg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A6sRJ', 'Classical', 'Alex6662', 1611, 'tito60', 1676, 'c4,e5,Nc3,Nf6,d3,Nc6,e4,Bb4,Bd2,Nd4,Nge2,Nxe2,Bxe2,d6', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/A6sRJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A6stQ', 'Classical', 'Nocturnal23', 1851, 'yousef156', 1926, 'b3,e5,Bb2,Nc6,Nf3,e4,Nd4,Nxd4,Bxd4,c5,Bb2,d5,d3,exd3,cxd3,Nf6,g3,Be7,Nd2,O-O,Nf3,b6,Bg2,Bb7,O-O,Re8,e3,Bd6,d4,Ne4,Rc1,f5,dxc5,bxc5,Ba3,Qe7,Qc2,Rac8,Rfd1,h6,Nh4,Qf7,f3,Nxg3,hxg3,Bxg3,Nxf5,Bb8,Bxc5,Qh5,Nd6', 'Bxd6,Bxd6,Rxc2', 'https://lichess.org/training/A6stQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A6tKu', 'Classical', 'JoseALopez', 1630, 'popmoj', 1608, 'e4,e5,Nf3,Nc6,Bb5,Qf6,O-O,Bc5,c3,d6,d4,exd4,cxd4,a6,Bxc6+,bxc6,dxc5,dxc5,Nc3,Bg4,e5,Qe6,Qd3,Ne7,Bg5,O-O,Bxe7,Qxe7,Rfe1,Rfd8,Qe4,Bxf3,Qxf3,Qe6,h3,Rab8,b3,h6,Ne4,Qxe5,Nc3,Qd6,Rad1,Qg6,Rxd8+,Rxd8,Na4,Rd5,Re8+,Kh7,Kh2,Qd6+,g3,Rd3,Qxf7,Rd2,Rf8,Rxa2,Rg8,Qe5,Nxc5,Qd4,Ne6', 'Rxf2+,Kg1,Rxf7+,Nxd4,Kxg8', 'https://lichess.org/training/A6tKu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A6UFs', 'Blitz', 'Hydraa', 2095, 'Biolog', 2164, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Be7,O-O,d6,Nxd4,Nxd4,Qxd4,Nf6,Nc3,O-O,b3,c6,Bd3,Ng4,Bb2,c5,Qa4,Bd7,Qa3,a6,Nd5,b5,b4,c4,Be2,Ne5,Nxe7+,Qxe7,Rfe1,Qg5,Rad1,Qg6,Bf3,Bg4,Bxg4,Nxg4,Qg3,Ne5,Qxg6,Nxg6,Rxd6,Rfd8,Red1,Rxd6,Rxd6,f6,f3,Kf7,Bd4,Ne7,Bc5,Ng6,Kf2,Nf4,g3,Ne6,Rd7+,Kg6,Bb6,Rb8,Rd6,Ng5,Ke3,Nf7,Rc6,Ne5,Rd6,Nf7,Re6,Ne5,Bc5,Ra8,h3,Nd7,Bd4,Kf7,Rd6,Ke7,Rc6,a5,a3,axb4,axb4,Ra3+,c3,Ra1,h4,Rg1,Kf2,Rc1,Rc7,Ke6,Rb7,Ne5,Rxb5,Nd3+,Kg2,Rc2+,Kg1,Rc1+,Kh2,Rc2+,Kh3,h5,g4,hxg4+,Kxg4', 'Rg2+,Kh3,Nf4#', 'https://lichess.org/training/A6UFs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A6usH', 'Rapid', 'sagarnadar2016', 1669, 'Almero', 1740, 'e4,e6,Nc3,d5,exd5,exd5,Nf3,d4,Ne2,Bc5,c3,dxc3,Nxc3,Nc6,d3,Bg4,Be2,Qe7,O-O,O-O-O,Be3,Bxe3,fxe3,Qxe3+,Kh1,Nf6,Re1,Bxf3,Bxf3,Qb6,b3,Qb4,Na4,Qd4,Be2,Nb4,Rc1,Nxd3,Bxd3,Qxd3,Qxd3,Rxd3,Re7,Nd5,Rxf7,Rd2,Nc3,Nxc3,h3,c6,Rxc3,Rxa2,Rxg7,Ra1+,Kh2,Rb1,Rg4,h5,Rf4,Kc7,b4,b5,Rf6,Rxb4,Rfxc6+,Kb7,Rc7+,Kb6', 'R3c6+,Ka5,Rxa7#', 'https://lichess.org/training/A6usH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a6vH6', 'Rapid', 'PARMARDEEP123', 1782, 'jatinpandya', 1657, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Nf6,Ng3,Bg4,Be2,e6,d4,Bd6,Be3,h6,h3,Bxf3,Bxf3,Bxg3,fxg3,Nd5,Bf2,O-O,Qd3,Nd7,O-O,N7f6,g4,Re8,Bg3,Nd7,c4,N5b6,Rad1,Qe7,Rfe1,Rad8,d5,cxd5,cxd5,Nf6,d6,Qd7,Rc1,Rc8,Be5,Red8,Red1,Nfd5,Bxd5,Nxd5,Rc4', 'Rxc4,Qxc4,Ne3,Qc1,Nxd1', 'https://lichess.org/training/a6vH6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A6vjV', 'Rapid', 'elvin009', 1809, 'hoseyn13551355', 1766, 'e4,e5,Nf3,Bc5,Bc4,f5,Bxg8,Rxg8,O-O,fxe4,Nxe5,d5,d4,Be7,f3,Nd7,fxe4,Nxe5,dxe5,dxe4,Qh5+,g6,Qxh7,Be6,Nc3,Qd7,Rd1', 'Bc5+,Kh1,Qxh7', 'https://lichess.org/training/A6vjV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a6Yer', 'Rapid', 'ChessMasterKikly', 1744, 'ddd777sss', 1715, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Bc4,Ne7,Nc3,O-O,e5,d5,exd6,cxd6,O-O,d5,Bd3,Nf5,Qh5,g6,Qf3,Re8,Ne2,Bd6,Bf4,Rxe2,Bxe2', 'Nd4,Qd3,Nxe2+,Qxe2,Bxf4', 'https://lichess.org/training/a6Yer');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a6zC3', 'Classical', 'goelette', 1641, 'sakpalsa', 1661, 'd4,Nf6,c4,d5,cxd5,Qxd5,Nc3,Qa5,Bd2,e6,Nf3,Bb4,e4,O-O,Bd3,Nc6,O-O,Bxc3,Bxc3,Qb6,Qc2,g6,d5,exd5,Bxf6,Nb4,Qc3,Nxd3,Bd4,Qb5,a4,Qc4,exd5,Qxc3,bxc3,Bf5,Ne5,Rad8,Nxd3,Bxd3,Rfe1,Rxd5,Re7,Rc8,Rae1,Rdd8,Be5,Be4,h3,f5,Rg7+,Kf8,Rxh7,Kg8,Rg7+,Kf8,Rxg6,Re8,Rf6+,Ke7,Bd4,c5,Be5,Rc6,Rxc6,bxc6,Rd1,Ke6,Bg3,Re7,Rd6+,Kf7,Bh4,Rb7,Rf6+,Kg7,Re6,Rb1+,Kh2,Ra1,Re7+,Kg6,Rxa7,Ra3,c4,Rc3,f3,Bd3,Rc7,Rxc4,Rxc6+,Kf7,Bg5,Rc2,Rf6+,Kg7,Rd6,Bf1,Rd2,Rc4,a5,Ra4,Bd8,c4,Rc2,Bd3,Rc3,Kf7,Kg3,Ke8,Bb6,Kd7,Kf4,Kc6,Ke3,Kb5,Kd4,Bf1,g3,Bxh3,Re3,Bf1,Re5+,Kb4,Rxf5,Kb3,Rb5+,Ka3,Kc3,Bd3,Rb3+,Ka2,Rb2+,Ka1,f4', 'Ra3+,Kd4,Kxb2', 'https://lichess.org/training/a6zC3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A72lT', 'Rapid', 'Koctik1986', 1807, 'ammarsamy', 1854, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,c3,Nge7,Bc4,d6,a4,Be6,Bxe6,fxe6,b4,Bxd4,Bxd4,Nxd4,cxd4,c5,bxc5,dxc5,Qh5+,g6,Qxc5,O-O,O-O,b6,Qb4,Nc6,e5,Nxb4,exf6,Rxf6,Nc3,Raf8,Nb5,a6,Nc7,Rc8,Rfc1,Nd3,Rc2,Nb4,Rc4,a5,Re1,Rf7,Rec1,Nd3,Nxe6,Rxc4,Rxc4,Rxf2,Rc3,Rd2,h3,Ne1,g4,Re2,d5,Rd2,Rc8+,Kf7,Rc7+,Kf6,Rxh7,Rxd5,Nf4,Rd4,Ne2,Rxa4,Nc3,Rc4,Nd5+,Kg5', 'h4+,Kxg4,Ne3+,Kg3,Nxc4', 'https://lichess.org/training/A72lT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a72Yi', 'Classical', 'hardkov', 2167, 'iMRuing', 2163, 'e4,d5,exd5,Nf6,c4,c6,Nc3,cxd5,d4,e6,Nf3,Nc6,Bd3,Bb4,O-O,O-O,a3,Ba5,Bg5,Re8,b4,Bb6,cxd5,exd5,Bxf6,gxf6,b5,Ne7,Nh4,Ng6,Qh5,Bxd4,Nxd5,Re5,Qh6,Qxd5,Rad1,Rh5,Nxg6,fxg6,Qc1,Bh3', 'Bc4,Be6,Bxd5', 'https://lichess.org/training/a72Yi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a7aqI', 'Rapid', 'Dorzhukuulatuva', 1744, 'Mubarak11', 1739, 'e4,e5,Nf3,Nc6,d4,Bd6,d5,Nb8,Bc4,Nf6,Bg5,O-O,Nc3,c6,O-O,Bc7,b4,d6,dxc6,bxc6,a4,Nbd7,b5,c5,Nd5,Bb7,Nxc7,Qxc7,Bb3,Nxe4,Be7,Rfe8,Bh4,c4,Ba2,d5,a5,a6,b6,Qc5,Ng5,Nc3,Qg4,Bc8,Qf5,f6', 'Qxh7+,Kf8,Qh8+,Ke7,Qxg7+', 'https://lichess.org/training/a7aqI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A7BxC', 'Rapid', 'mattdeck', 1751, 'pourmohammadi', 1735, 'd4,d5,c4,dxc4,e3,b5,a4,Bd7,axb5,Bxb5,Nc3,c6,Nxb5,cxb5,Qf3,Nd7,Ne2,e6,g3,Bb4+,Nc3,Ngf6,Bg2,O-O,O-O,Bxc3,bxc3,Nd5,e4,N5b6,Qg4,Nf6,Qh4,Na4,e5,Nd5,Qg4,g6,h4,h5,Qf3,f5,exf6,Rxf6,Qd1,Naxc3,Qc2,Rf5,Bxd5,Qxd5,Qxc3,Qd7,Bb2,Raf8,d5,exd5,Qh8+,Kf7,Qg7+,Ke6,Qxg6+,Ke7,Rfe1+,Kd8,Re2,b4,Ra6,Kc8,Rc6+,Kb7,Bd4,R8f7,Bxa7', 'Qxc6,Qxc6+,Kxc6', 'https://lichess.org/training/A7BxC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A7cq7', 'Classical', 'geartwo', 1967, 'Frenchy', 1974, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,Nc6,Nf3,d6,d4,Rb8,O-O,O-O,Bg5,Bd7,Qd2,Qc8,Rad1,Bh3,e4,Bxg2,Kxg2,e5,d5,Ne7,c5,a6,Rc1,Qd7,cxd6,cxd6,Nh4,Nh5,Bh6,f5,Bxg7,Kxg7,exf5,Nxf5,Nxf5+,Qxf5,f3,Rf7,Ne4,Qd7,Ng5,Rf6,Ne6+,Kg8,Rc7,Qb5,Qh6,Rf7,Rxf7,Kxf7,Ng5+,Kf6,Nxh7+,Kf7,Ng5+,Kf6,Ne4+,Ke7,Qh7+,Kd8,Qg8+,Kc7,Rc1+,Kb6,Rc8,Qe2+,Kh3,Rxc8,Qxc8,Qxf3,Nxd6', 'Nf4+,Kh4,Qh5#', 'https://lichess.org/training/A7cq7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A7Gn0', 'Blitz', 'FM mac0504', 2515, 'dunduks', 2374, 'Nf3,c5,b3,d5,Bb2,Nc6,e3,Bg4,Bb5,Rc8,h3,Bh5,g4,Bg6,Ne5,f6,Bxc6+,bxc6,Nxg6,hxg6,d3,e5,Nc3,Nh6,Qf3,Qd7,Na4,f5,O-O-O,Qe6,c4,e4,Qe2,Be7,Bxg7,Rh7,Bxh6,Rxh6,dxe4,fxe4,Nc3,Bf6,cxd5,Qe5,Nb1,cxd5,g5,Bxg5,Qb5+,Kf8,Qb7,Rd8,Rhg1,Rxh3,Rd2,Rf3,Qc6,Kg7,Qb7+,Rf7,Qc6,Rc7', 'Rxg5,Rxc6,Rxe5', 'https://lichess.org/training/A7Gn0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a7hqh', 'Blitz', 'FM Wermeland', 2321, 'ponnydans', 2335, 'd4,d5,c4,c6,Nc3,Nf6,e3,e6,Nf3,Bd6,a3,O-O,Qc2,Nbd7,Bd2,e5,Be2,a5,h3,Re8,cxd5,cxd5,Nb5,Bb8,dxe5,Nxe5,Nfd4,Ne4,O-O,Qh4,Be1,Bxh3,f4,Qh6,gxh3,Qxh3,Bf3,Ra6,Bg2,Qxe3+,Bf2,Qxf4,Rfe1,Rg6,Be3,Nf3+,Nxf3,Qxf3,Nd4,Qh3,Kf1,Qh2,Nf5,Rf6,Bxe4,Qh3+,Ke2,Rxe4,Rf1,Rxf5', 'Qc8+,Re8,Qxe8#', 'https://lichess.org/training/a7hqh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A7k5U', 'Rapid', 'Kejjie', 1813, 'Cyntiabai99', 1718, 'e4,e5,Bc4,Nf6,d3,c6,Be3,d5,exd5,cxd5,Bb3,d4,Bg5,Be7,Nf3,Nc6,Ba4,Bd7,Bxc6,Bxc6,Nxe5,Bxg2,Rg1,Bd5,Nd2,Bb4,a3,Bd6,Qe2,O-O,f4,Re8,Bxf6,Qxf6,Qg4,Bxe5,fxe5,Rxe5+,Kd1,Bf3+,Qxf3,Rf5,Qxb7,Re8,Kc1,Rf1+,Nxf1', 'Re1+,Kd2,Qf2#', 'https://lichess.org/training/A7k5U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A7keB', 'Blitz', 'orzowey', 2035, 'MFigueiredo', 2008, 'Nf3,Nf6,g3,g6,Bg2,Bg7,d3,d5,Nbd2,c5,O-O,Nc6,e4,Qc7,c3,O-O,Qc2,Bg4,Re1,e6,Nf1,Rad8,Be3,b6,Rac1,d4,cxd4,Bxf3,Bxf3,Nxd4,Bxd4,Rxd4,Ne3,Rfd8,Be2,Nd7,b3,Ne5,Rcd1,Qd7,f4,Nxd3,Bxd3,Rxd3,Rxd3,Qxd3,Qxd3,Rxd3,e5,Rd2,h4,Rxa2,Rd1,Ra3,Rd8+,Bf8,Ng4,Rxb3,Nf6+,Kg7,g4,Rf3,Ne8+,Kh6,Kg2,Rxf4,Kg3,Re4', 'g5+,Kh5,Nf6#', 'https://lichess.org/training/A7keB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a7N6J', 'Rapid', 'zezette23', 1774, 'Hodari', 1752, 'd4,d5,c4,c6,Nc3,Nf6,b4,dxc4,e4,b5,a4,e6,axb5,cxb5,Nxb5,Bxb4+,Bd2,Bxd2+,Qxd2,Nc6,f3,O-O,Bxc4,a6,Ne2,Bb7,Nbc3,e5,d5,Nb4,O-O,a5,Na4,h6,Nc5', 'Qb6,Kh1,Qxc5', 'https://lichess.org/training/a7N6J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a7ne1', 'Blitz', 'elena1600', 1913, 'NightGriffin', 1929, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Bd3,d5,O-O,Be7,Re1,Nf6,Nc3,O-O,Ne4,dxe4,Bxe4,Nxe4,Rxe4,b6,d3,Bb7,Re3,Bg5,Nxg5,Qxg5,Rg3,Qd5,Qg4,g6,Bh6,Re8,Qf4,Qe5,h4,Qxf4,Bxf4,c5,h5,Nd7,hxg6,hxg6,Kh2,Nf6,Rh1,Nh5,Rg4,Nxf4,Rxf4,Re2,Kg3,Rxc2,Rfh4,Kg7,Rh7+,Kf6,R1h4,Rxb2,Rf4+,Ke6,Rfxf7,Ba6,Re7+,Kf6,Rhf7+,Kg5,Re5+,Kh6,Re4,Bxd3,Ree7,Bf5', 'Rh7+,Kg5,f4+,Kf6,Rhf7#', 'https://lichess.org/training/a7ne1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a7Of8', 'Rapid', 'oppung', 2001, 'AnaRhisT12', 1981, 'c4,b6,g3,Bb7,Nf3,Nf6,Bg2,e6,Nc3,Bb4,O-O,O-O,a3,Bxc3,bxc3,d6,d4,Nc6,Re1,Na5,Nd2,Qc8,e4,Rb8,d5,exd5,cxd5,Re8,c4,Ba6,Qc2,Qg4,Bb2,Nd7,Bd4,Ne5,Bxe5,Rxe5,f3,Qh5,Qc3,Rbe8,f4,R5e7,Rac1,Nb7,a4,Nc5,a5,Bc8,Re3,f5,Rce1,fxe4,Nxe4,Nxe4,Rxe4,Rxe4,Rxe4,Qd1+,Kf2,Rxe4,Bxe4,Bg4,Qe3,bxa5,Bf5,Bh5,Qe6+,Kf8,Qc8+,Be8,Qxc7,Qd2+,Kg1,Qe1+,Kg2,Qe2+,Kg1,Qe1+,Kg2,Qe2+,Kg1,Qe3+,Kf1,Qf3+,Ke1,Qe3+,Kd1,Bh5+,Kc2,Qe2+,Kc3,Qe3+,Kb2,Qd2+,Bc2,Qb4+,Ka2,a4,Qc8+,Be8,Qf5+,Ke7,Qe6+,Kd8,Bf5,Qxc4+,Ka1,Qc1+,Ka2,Qc4+,Ka1,a3', 'Qxd6+,Bd7,Qxd7#', 'https://lichess.org/training/a7Of8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a7P58', 'Rapid', 'Dominicg', 1712, 'Neilg1947', 1763, 'd4,Nf6,Bf4,e6,e3,d5,c3,c5,Nd2,Nbd7,Bd3,b6,Ngf3,Be7,Ne5,Bb7,Qe2,Ne4,f3,Nxd2,Qxd2,Rc8,Rd1,O-O,O-O,f6,Nxd7,Qxd7,e4,cxd4,cxd4,b5,Rc1,b4,Rc2,a5,Rfc1,Rxc2,Rxc2,Rc8,b3,dxe4,Bxe4,Bxe4,Rxc8+,Qxc8,fxe4,Qc3,d5,e5,Be3,Bc5', 'Qxc3,bxc3,Bxc5', 'https://lichess.org/training/a7P58');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A7qIw', 'Classical', 'EinWildesHazon', 1790, 'xsimons', 1825, 'Nf3,Nf6,b3,d5,Bb2,Bg4,e3,Nbd7,Be2,e6,O-O,Bd6,h3,Bxf3,Bxf3,O-O,d4,c5,Nd2,cxd4,Bxd4,e5,Bb2,e4,Be2,Be5,Bxe5,Nxe5,c4,Nd3,Qc2,Rc8,Bxd3,exd3,Qxd3,dxc4,Qxd8,Rfxd8,Nxc4,b5,Ne5,Ne4,Rfd1,f6,Nf3,Rxd1+,Rxd1,Rc2,Rd8+,Kf7,Rd7+,Kg6,Rxa7,Rxf2,Rb7,Rxa2,Rxb5,Re2,Nh4+,Kh6,Nf5+,Kg6,Kf1', 'Rf2+,Ke1,Rxf5', 'https://lichess.org/training/A7qIw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a7Vus', 'Rapid', 'thevag8', 1861, 'naz23', 1680, 'd4,d5,c4,Nf6,Nf3,Bf5,cxd5,Nxd5,Nbd2,e6,e4,Bxe4,Nxe4,Bb4+,Bd2,Qe7,a3,Bxd2+,Nexd2,O-O,Bc4,Nb6,Ba2,c6,O-O,Nd5,Re1,Nf4,Qc2,Qf6,Ne4,Qg6,g3,Nh3+,Kg2,Nf4+,Kh1,Nd5,Rac1,Qg4,Qd3,f5,Nc3,f4,Nxd5,exd5,Ne5,Qh3,Bb1,fxg3,fxg3,Rf2,Qxh7+,Qxh7,Bxh7+,Kxh7,Nd3,Rd2,Rcd1,Rxd1,Rxd1,Nd7,Nc5,Nxc5,dxc5,Rf8,Kg2,Kg6,Re1,Rf7,h4,Kf5,Rf1+,Kg6', 'h5+,Kxh5,Rxf7', 'https://lichess.org/training/a7Vus');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a7Wcm', 'Rapid', 'SkurkePappa', 1778, 'Mako1313', 1777, 'd4,Nc6,d5,Ne5,e4,c6,Nc3,cxd5,exd5,e6,Bf4,Ng6,Nge2,N8e7,d6,Nf5,Nb5,Qa5+,Nec3,Nxf4,Nc7+,Kd8,g3,Qe5+,Be2,Nxe2,Nxe2,Qe4,O-O,b6,Nxa8,Qxa8,c4,Bxd6,b4,Bb7,g4,Nh4,Qxd6,Bh1,Nf4,Nf3+,Kxh1,Nd2+,Kg1,Nxf1,Kxf1,Qh1+,Ke2,Qe4+,Kd2,Re8,Re1,Qxc4,Qb8+,Ke7,Qe5,Qxa2+,Ke3,Qb3+,Ke2,Qxb4', 'Nd5+,Kf8,Nxb4', 'https://lichess.org/training/a7Wcm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a7wFb', 'Rapid', 'jl1203', 1752, 'boris049', 1829, 'e4,e5,Nf3,Nc6,Bc4,Nf6,c3,Bc5,d4,exd4,cxd4,Nxd4,Nxd4,Bxd4,Qxd4,d6,Bg5,h6,Bxf6,Qxf6,Qxf6,gxf6,Nc3,Be6,Nb5,O-O,Bxe6,fxe6,Nxc7,Rac8,Nb5,Rc2,Rb1,f5,exf5,Rxf5,Nd4,Re5+,Kd1,Rxf2,Nf3,Rd5+,Ke1,Rc2,Rd1,Rxd1+,Kxd1,Rxb2,Re1,Kf7,Re2,Rb1+,Kc2,Ra1,Kb2,Rf1,Nd4,e5,Nb5,Ke6,Nxa7,Rf4,a3,d5,Nb5,d4,g3,Rg4,Rd2,Kd5,Nc7+,Kd6,Ne8+,Ke7,Nc7,h5,Kc2,h4,gxh4,Rxh4,Nd5+,Kd6,Nf6,Ke6,Ne4,Kf5,Nc5,Rh3,Nxb7,Rxa3,Nd6+,Kg4,Nc4', 'Rc3+,Kb2,Rxc4', 'https://lichess.org/training/a7wFb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A7ybW', 'Rapid', 'goonfiend', 1933, 'jikai_liu', 1704, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,h6,Bxf6,gxf6,Nd5,Bg7,Be2,Qa5+,c3,O-O,Nc4,Qd8,Ndb6,Ra7,Nxd6', 'Qxb6,Nxc8,Rxc8', 'https://lichess.org/training/A7ybW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a80sg', 'Rapid', 'waidmanss', 1753, 'apis16', 1750, 'd4,Nf6,c4,g6,Nc3,d5,Bg5,dxc4,e4,Bg7,e5,Nd5,Bxc4,c6,Nxd5,cxd5,Bb5+,Bd7,Qb3', 'Qa5+,Bd2,Qxb5,Qxb5,Bxb5', 'https://lichess.org/training/a80sg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a847p', 'Classical', 'kbsrikanth', 1915, 'Novandi', 1787, 'e4,c5,Nf3,e6,d4,Nc6,Be3,Nf6,Nc3,Ng4,Be2,Nxe3,fxe3,Be7,O-O,O-O,Bd3,b6,a3,Bb7,Qe2,Rc8,d5,exd5,exd5,Nd4,e4,Nxf3+,Qxf3,c4,Be2,b5,Nxb5', 'Qb6+,Kh1,Qxb5', 'https://lichess.org/training/a847p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A8BLv', 'Blitz', 'JuanCRS', 1736, 'yanekk', 1744, 'd4,Nf6,h3,e6,Bg5,Bb4+,c3,Be7,Nf3,O-O,e3,d5,b4,h6,Bh4,g5,Bg3,Ne4,Be5,Nd7,Bh2,b6,Nfd2,Nxd2,Nxd2,c5,a3,cxd4,cxd4,Nf6,Bd3,Bd7,O-O,Bc6,b5,Bb7,a4,Bd6,f4,Rc8,Nf3,gxf4,Bxf4,Bxf4,exf4,Qc7,Ne5,Qc3,Be2,Ne4,Rf3,Qc7,Rc1,Qxc1,Qxc1,Rxc1+,Kh2,Rc2,Bd3,Ra2,Bxe4,dxe4,Rg3+,Kh7,Nd7,Rg8', 'Nf6+,Kh8,Rxg8#', 'https://lichess.org/training/A8BLv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a8BWL', 'Classical', 'umaia', 1833, 'Duscian', 1815, 'e4,e5,d4,exd4,c3,dxc3,Nxc3,Bb4,Qd4,Bxc3+,Qxc3,Qf6,e5,Qc6,Qd4,Ne7,Bd3,O-O,Nf3,Qd5,Qc3,d6,Bg5,Nbc6,O-O-O,Qc5,Bc4,h6,exd6,cxd6,Be3,Qa5,Rxd6,Qxc3+,bxc3,Nf5,Rd3,Nxe3,Rxe3,Rd8,Rhe1,Bg4,Nd2,Rac8,f3,Bf5,g4,Bg6,f4,Kf8,f5,Bh7,Kb2,a6,R1e2,Rd7,h4,b5,Bb3,Na5,Bc2', 'Rxd2,Rxd2,Nc4+', 'https://lichess.org/training/a8BWL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a8EbP', 'Rapid', 'Artamonov_V', 1824, 'DoubleBlack', 1786, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,c4,Nf6,Nc3,a6,Be2,Be7,Be3,O-O,O-O,d6,Rc1,Qc7,a3,Rd8,b4,Nxd4,Bxd4,e5,Be3,Be6,Na4,Rac8,Bb6,Qc6,Bxd8,Rxd8,f3,Nh5,Qc2,Bg5,Rcd1,Qc8,Nb6', 'Be3+,Kh1,Bxb6', 'https://lichess.org/training/a8EbP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A8ePI', 'Blitz', 'gabrielyoung', 2209, 'mohammedarrami', 2250, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bb3,Be7,Qf3,O-O,O-O,Qc7,Kh1,b5,a3,Bb7,Re1,Nbd7,Qg3,Kh8,Be3,Nc5,f3,Rac8,Rad1,Nxb3,Nxb3,d5,e5,Nd7,f4,Nc5,Nd4,Nd7,Bg1,g6,Nce2,Nb6,c3,Nc4,Rb1,Nd2,Rbd1,Ne4,Qe3,Bc5,Ng3,f5,Nxe4,fxe4,Qh3,Bxd4,Bxd4,Qe7,g3,Rf5,b4,Rcf8,Bc5,Qf7,Bxf8,Qxf8,Rd4,Qc8,Re3,a5,Qf1,axb4,axb4,h5,Qxb5,Ba6,Qc5,Qa8,Kg2,Bd3,Qa5,Qc8,b5,g5,b6,gxf4,gxf4,Qg8+,Kh1,Bf1,Rd2,Rxf4,b7', 'Bg2+,Rxg2,Rf1+,Rg1,Qxg1#', 'https://lichess.org/training/A8ePI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a8gQO', 'Rapid', 'chesssniper', 2319, 'MilkyCow', 2398, 'e4,c6,d4,d5,e5,Bf5,Nd2,e6,Nb3,Nd7,Nf3,Bg6,Be3,Nh6,Bxh6,gxh6,Bd3,Bg7,O-O,O-O,Re1,f6,Bxg6,hxg6,Nh4,g5,Ng6,Rf7,h4,fxe5,Nxe5,Nxe5,dxe5,gxh4,Nc5,Qg5,Nxe6,Qf5,Nxg7,Qxf2+,Kh1,Rxg7,Re2,Qf5,Qf1,Qh5,Rae1,Rf8,Rf2,Rxf2,Qxf2,h3,g3,Rf7,Qe2,Qg6,Kh2,Qe6,b3,Rf5,a4,Qf7,Kxh3,Rh5+,Kg2,Qf5,Kg1,Qh3,Qg2,Qxg2+,Kxg2,Kf7,Kf3,Ke6,Kf4,Rf5+,Kg4,Rxe5,Rxe5+,Kxe5,Kh5,Kf5,g4+,Kf6,Kxh6,Kf7,Kh7,Kf6,Kh6,Kf7,g5,Kg8,Kg6,d4,Kf6,c5,Ke6,Kg7,Kd5,b6,b4,cxb4', 'Kxd4,Kg6,Kc4,Kxg5,Kxb4', 'https://lichess.org/training/a8gQO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A8hGI', 'Blitz', 'Bora82', 1589, 'PLBtto', 1521, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nf6,Nf3,Qb6,O-O,Bg4,d3,Nc6,Be3,d4,Bg5,O-O-O,h3,Bxf3,Qxf3,h6,Bh4,g5,Bg3,Bg7,Bxf7,Qc5,Be6+,Nd7,c3,Rhf8,Qe2,Be5,Bxe5,Nxe5,cxd4,Qxd4,Nd2,Rf6,Rac1+,Kb8,Bxd7,Rxd7,b3,g4,hxg4,Nxg4,Nf3,Qd6,Rc3,Rxf3,g3,Qd5,Rfc1,Rd8,Rc5,Qxd3,Qxe7,Rff8', 'Qc7+,Ka8,Qc8+,Rxc8,Rxc8+,Rxc8,Rxc8#', 'https://lichess.org/training/A8hGI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a8IFN', 'Blitz', 'pov', 1609, 'WindRider987', 1606, 'd4,d5,c4,Nf6,Nc3,e6,Bf4,Bd6,Bg3,Bxg3,hxg3,O-O,e3,Qe7,Bd3,c5', 'Bxh7+,Nxh7,Qh5,f6,Qxh7+', 'https://lichess.org/training/a8IFN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A8K69', 'Rapid', 'greatroman', 1847, 'yagosx', 1888, 'c4,e5,e4,Nf6,Nc3,Bb4,d3,Nc6,a3,Bxc3+,bxc3,d6,Bg5,Be6,h3,h6,Bh4,g5,Bg3,Qe7,Nf3,O-O-O,Be2,Nd7,Rb1,f5,exf5,Bxf5,Qb3,b6,Qb5,Kb7,O-O,Nc5,Rfd1,e4,Nd4,Nxd4,cxd4,Nxd3,Qxf5,Rhf8,Qb5,h5,Bxd3,exd3,Re1,Qf6,Qb2,h4,Bh2,Rde8,Rxe8,Rxe8,Kf1', 'Re2,Qxe2,dxe2+', 'https://lichess.org/training/A8K69');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A8NMk', 'Rapid', 'connor-da-genius', 1840, 'Galmonte', 1888, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,a6,Be3,Nf6,Be2,Bb4,O-O,O-O,Nxc6,dxc6,e5,Bxc3,bxc3,Nd5,Bc5,Re8,c4,Nc3,Qxd8', 'Nxe2+,Kh1,Rxd8', 'https://lichess.org/training/A8NMk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A8P7G', 'Blitz', 'cordeirogod', 2221, 'Kinxley', 2313, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,d4,Bg4,Be3,Nc6,Be2,O-O-O,h3,Bh5,O-O,e6,Qd3,h6,Qb5,a6,Qxa5,Nxa5,a3,Nc6,Rad1,Bd6,b4,Ne7,Na4,g5,c4,Bf4,Bxf4,gxf4,Rfe1,Rhg8,Ne5,Bxe2,Rxe2,Rdf8,Ree1,Ng6,Nc5,Nh4,d5,exd5,cxd5,Rxg2+,Kf1,Rfg8,Ke2,Ne4,Nxf7,Nc3+,Kd3,Nxd1,Rxd1,Rxf2,Ne6,Rf3+,Ke4,Rxa3,Rc1,c6,dxc6,Re3+,Kd5,bxc6+,Rxc6+,Kb7,Nd6+,Kb8', 'Rb6+,Ka7,Rb7+,Ka8,Nc7#', 'https://lichess.org/training/A8P7G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a8pEx', 'Rapid', 'mustafa888', 1632, 'dak07', 1800, 'e4,e5,d4,exd4,Qxd4,Nc6,Qd1,d6,Be3,Nf6,Bd3,Bg4,f3,Bh5,g4,Bg6,h4,h5,g5,Nd7,f4,Nb6,f5,Bh7,Qf3,Qd7,Nc3,g6,f6,O-O-O,Bxb6,cxb6,O-O-O,Nb4,Nge2,d5,exd5,Nxd5,Be4,Qc6,Nxd5,Qe6,Ne7+,Bxe7,fxe7,Qxe7,Rxd8+,Rxd8,Rd1,Re8,Qh3+,Kb8,Bf3,f5,Qh2+,Ka8,Qg2,Bg8,Bd5,Bxd5,Rxd5,Qb4,Nc3,Qf4+,Rd2,b5,Qd5', 'Re1+,Nd1,Rxd1+,Kxd1,Qf1#', 'https://lichess.org/training/a8pEx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A8REP', 'Rapid', 'lzh0506', 1755, 'SheeJiaWee', 1944, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,g6,Bc4,Bg7,Be3,Nf6,f3,Bd7,Qd2,Ne5,Bb3,Rc8,h4,h5,Nde2,Nc4,Bxc4,Rxc4,Nc1,Be6,Nb3,Nd7,Bd4,Bxd4,Nxd4,Qb6,Nxe6,fxe6,b3,Rc8,O-O-O,Ne5,Na4,Qb5,Nc3,Qc5,Na4,Qa3+,Kb1,b5,Nc3,a6,Qc1', 'Qxc1+,Kxc1,Rxc3', 'https://lichess.org/training/A8REP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A8RuL', 'Blitz', 'GM athena-pallada', 2718, 'Catinlove', 2629, 'e4,c5,d4,cxd4,c3,Nf6,e5,Nd5,Qxd4,e6,Nf3,Nc6,Qg4,b6,Nbd2,Bb7,Ne4,Qc7,Qg3,f5,exf6,Qxg3,f7+,Kxf7,hxg3,Nf6,Bd3,Be7,Bf4,Nxe4,Bxe4,Bf6,O-O-O,d5,Bc2,e5,Be3,Rad8,Ng5+,Bxg5,Bxg5,Rd6,Bxh7,g6,Bxg6+,Kxg6,Rxh8,Kxg5,Rdh1,Rg6,Rf8,Ba6,Kd2,d4,Rh7,dxc3+,bxc3,Bc4,a4,a6,f3,b5,axb5,axb5,g4,Rd6+,Ke3,Kg6,Rc7,Nd8,Re8,Ne6,Ra7,Rd3+,Ke4,Kf6,Rxe6+,Kxe6,Ra6+,Kd7,Kxe5,Rxc3,f4,Re3+,Kd4,Rd3+,Ke4,Rd2,g3,b4,Rb6,b3,Ke3,Rc2,g5,Kc7,Rb4,Kc6,g6,Kc5,Rb8,Re2+,Kf3,Re7,f5,Bb5', 'f6,Re6,f7', 'https://lichess.org/training/A8RuL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a8w5U', 'Rapid', 'enpassant33', 2101, 'babljak01', 1996, 'Nf3,d5,c4,dxc4,Na3,e6,Nxc4,Nf6,b3,b6,Bb2,Be7,g3,Bb7,Bg2,Nbd7,O-O,O-O,Qc2,c5,a4,Nd5,Ba3,Nb4,Bxb4,cxb4,Rac1,Rc8,Qb1,Nc5,Rc2,Bf6,Rfc1,h6,Nb2,Nxb3,Rxc8,Bxc8,Rc2,Bb7,Nc4,Nc5,Qxb4,Bd5,d4,Na6,Qb2,Nc7,Nce5,Ba8,Nc6,Qd7,Nxa7,Nd5,Nb5,h5,e4,Ne7,e5,Bxf3,Bxf3,Bg5,Bxh5,Nd5,Bf3,Ra8,Qb3,Bd8,Bxd5,exd5,Qb4,Qf5,Rc6,Qf3,Rc1,Bg5,Re1,Qd3,Qc3,Qf5,Nd6,Qd7,Qb3,Qxa4,Qxd5,Qa2,Qxa2,Rxa2,Rb1,Rd2,f4,Be7,Rxb6,Rxd4,Nc8,Bc5,Rb8', 'Rb4+,Kg2,Rxb8', 'https://lichess.org/training/a8w5U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a8weJ', 'Blitz', 'cungalunga', 1785, 'ToyotaCamry', 1628, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,e5,Nd5,c4,Nb6,Bd3,Bc5,O-O,O-O,a3,d5,exd6,cxd6,Qc2,Be6,Bxh7+,Kh8,b3,d5,cxd5,Bd6,dxe6,Qh4,g3,Qxh7,Qxh7+,Kxh7,Bb2,fxe6,Nd2,e5,Ne4,Bc7,Rad1,Nd5,Ng5+,Kg6,Ne6,Rf3,Nxc7,Nxc7,Bxe5,Nd5,Rc1,Kf5,Bxg7,Rxb3,a4,Rg8,Bd4,Nf4,Rxc6,Ne2+,Kg2,Nxd4,Ra6,Rg7,Rd1,Ne2,Rd5+,Ke4,Rd8', 'Nf4+,Kf1,Rb1+,Rd1,Rxd1#', 'https://lichess.org/training/a8weJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A90jZ', 'Blitz', 'CM Progress27', 2207, 'MaxMLedesma', 2068, 'Nf3,d6,d4,Nf6,b3,g6,Bb2,Bg7,c4,Nbd7,g3,O-O,Bg2,c6,O-O,Qc7,Nc3,e5,Rc1,e4,Ng5,h6,Ngxe4,Nxe4,Nxe4,f5,Nc3,Nf6,d5,c5,Nb5,Qd7,Nc3,g5,e3,Ng4,Qc2,f4,exf4,gxf4,gxf4,Qf7,Ne2,Bxb2,Qxb2,Qe7,h3,Nf6,Ng3,Qg7,Kh2', 'Ng4+,hxg4,Qxb2', 'https://lichess.org/training/A90jZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A929a', 'Classical', 'Baselmercy', 1870, 'MiR2011', 1827, 'd4,Nf6,Nf3,g6,c4,Bg7,Nc3,O-O,g3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,c5,Bg2,Nc6,O-O,cxd4,cxd4,Nxd4,Nxd4,Bxd4,Rb1,Bg7,Bf4,Be6,Qxd8,Rfxd8,Rxb7,Bxa2,Rxe7,Be6,Rc1,a5,Rcc7,a4,Ra7,a3,e5,a2,Bxa8,Rd1+,Kg2,a1=Q,Rxa1,Rxa1,Re8+,Bf8,Bh6', 'Rxa8,Rxa8,Bd5+,Kh3,Bxa8', 'https://lichess.org/training/A929a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a93Br', 'Rapid', 'SharovV', 1823, 'borrom', 1888, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,O-O,e3,d6,Bd3,Nbd7,a3,c6,O-O,a6,e4,b5,Be3,bxc4,Bxc4,a5,b4,axb4,axb4,Bb7,Qb3,Rb8,Ng5,e6,Rac1,h6,Nf3,c5,dxc5,dxc5,b5,Nxe4,Nxe4,Bxe4,Be2,Bd5,Qc2,Rc8,Nd2,Qe7,Nc4,Rb8,Qd2,Rxb5,Bxh6,Bxc4,Bxg7,Kxg7,Bxc4,Rb4,Rfd1,Nf6,Qc3,Rh8,g4,Kf8,g5,Rxc4,Qxf6,Rxc1', 'Qxh8#', 'https://lichess.org/training/a93Br');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A943x', 'Rapid', 'Josh1980', 1744, 'MrScribbler', 1722, 'e4,c5,Nf3,e6,c3,Nc6,Bb5,Qc7,O-O,Nf6,Re1,d6,Bxc6+,Qxc6,e5,dxe5,Nxe5,Qc7,d4,cxd4,cxd4,Bd6,Qa4+,Nd7,Nc3,a6,Nd5,Qd8,Nxd7,Bxd7,Qb3,b5,Bf4,Bxf4,Nxf4,O-O,Qg3,Qc7,Nh5,Qxg3,fxg3,Rac8,h3,Rc2,Re4,Rxb2,Rg4,Kh8,Rxg7,Bc6,d5,Bxd5,Rc1,Rg8', 'Rxg8+,Kxg8,Rc8#', 'https://lichess.org/training/A943x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a975D', 'Rapid', 'abbasmufaddal', 1663, 'hooman241', 1649, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Be2,Nbd7,O-O,Be7,Be3,O-O,Nbd2,c5,dxc5,Nxc5,a3,b6,b4,Ne6,c4,d4,Nxd4,Nxd4,Bxd4,Qxd4,Bf3,Rb8,Re1,Bd6,Nb3,Qxc4,Qxd6,Qxb3,Qxb8,Bg4,Qxa7,Bxf3,gxf3,Qxf3,Qxb6,Ng4,Ra2,Qh3,f3,Qxf3,Rd2,Qf4,Ree2,h6,h3,Qg3+,Rg2,Qxh3,a4,Re8,Rd8,Rxd8,Qxd8+,Kh7,a5,Qe3+,Kf1,Qc1+,Ke2,Qe3+,Kf1,Qc1+,Ke2,Qe3+,Kd1,Qf3+,Re2,Qb3+,Rc2', 'Ne3+,Kd2,Nxc2', 'https://lichess.org/training/a975D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a97xE', 'Rapid', 'hkrmn', 1763, 'Ozancuevas', 1727, 'd4,e6,c4,b6,Nc3,a6,Nf3,Bb7,e4,h6,Bf4,g5,Bg3,Bg7,Bd3,f6,e5,f5,h4,g4,Nh2,Bxg2,Rg1,Bb7,Nxg4,fxg4,Qxg4,Qe7,Bf4,Nc6,Qxg7,Qxg7,Rxg7,O-O-O,Be3,Nb4,Bh7,h5,Bg5,Rf8,Be7,Rf3,Bxg8,Nc2+,Ke2,Rh3,Rag1,Nxd4+,Kd1,Bf3+,Ke1,Bg4,Bf7', 'Nf3+,Kf1,Nxg1', 'https://lichess.org/training/a97xE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a983c', 'Rapid', 'aryosetiawarman', 1839, 'nolovenohope', 1786, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,f3,O-O,Be3,d5,Be2,dxe4,Nxc6,bxc6,O-O,exf3,Bxf3,Bb7,Na4,Qe7,Bg5,h6,Bxf6,Qxf6,Qe2,Qd6,Qc4,Ba5,c3,Qd2,Rad1,Qg5,Bxc6,Bxc6,Qxc6,Qe3+,Kh1,Bb6,Qc4,Qg5,Rd7,Qg6,b4,a5,b5,Rad8,Nxb6,cxb6,Rc7,Qe6,Qxe6,fxe6,Rxf8+,Kxf8,h3,Rd2,a4,Ra2,Rb7,Rxa4,Rxb6,Rc4,Ra6,Rxc3,Rxe6,a4,Ra6,a3,b6,Rb3,b7,Rxb7,Rxa3,Kg8,Ra6,Kh7,Kh2,g5,Rc6,h5,Kg3,Rb3+,Kf2,Rb2+,Kf3,Rb3+,Kf2,Rb2+,Kf3,Rb3+,Ke4,h4,Kf5,Rg3,Rc2,Kh6,Rc6+,Kg7', 'Rg6+,Kh7,Rxg5', 'https://lichess.org/training/a983c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a98ph', 'Blitz', 'Qafqaz', 1676, 'Sseeker', 1704, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Re1,d6,c3,O-O,d4,exd4,cxd4,Bb6,d5,Ne5,Bb3,Bg4,Nbd2,Ba5,Re3,Bxd2,Bxd2,Nxf3+,gxf3,Bd7,Bc4,a6,Bd3,Nh5,Re1,Qf6,Kf1,Bh3+,Ke2,Nf4+,Bxf4,Qxf4,Rg1,Rae8,Rg3,Bd7,Qg1,g6,h4,f5,h5,g5,Rxg5+,Kh8,Qg2,fxe4,Bxe4,Bf5,Rg1,Bxe4,fxe4,Rxe4+,Kd3', 'Rd4+,Kc2,Qd2+,Kb1,Qd3+,Ka1,Qd1+,Rxd1,Rxd1#', 'https://lichess.org/training/a98ph');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a9C5G', 'Blitz', 'efdiOO7', 1583, 'shawkysaeed828', 1607, 'e4,e5,Nf3,d6,Bc4,Be7,Nc3,Nf6,O-O,Bg4,d3,Nc6,Be3,O-O,Nd5,Nxd5,Bxd5,a6,c3,Na5,b4,c6,Bb3,Nxb3,axb3,d5,Bc5,b6,Bxe7,Qxe7,Re1,f5,exd5,Bxf3,Qxf3,e4,dxc6,exf3,Rxe7,fxg2,d4,Rf6,b5,a5,d5,f4,Kxg2,f3+,Kg3,Raf8,Rd1,Rd6,c4,Rg6+,Kh3,Rh6+,Kg4,Rg6+,Kh4,Rh6+,Kg5,Rg6+,Kh5,Rf5+,Kh4,Rff6,Re8+,Kf7,c7,Rh6+,Kg5,Rhg6+,Kh4,Rh6+,Kg4,Rhg6+,Kh5,Rh6+,Kg4,Rxh2,c8=Q', 'Rg2+,Kh5,Rh6#', 'https://lichess.org/training/a9C5G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a9GzE', 'Blitz', 'Shamel113', 1873, 'Scracchio', 1854, 'Nf3,g6,Ng5,e5,Nxf7,Kxf7,e4,Nf6,Bc4+,Kg7,d3,Bc5,Bg5,Nc6,O-O,d6,Nc3,Qd7,Bxf6+,Kxf6,Nd5+,Kg7,Kh1,Rf8,a3,Ne7,Nc3,Rxf2,Rxf2,Bxf2,Qf3,Bh4,Qf7+,Kh8', 'Qf8+,Ng8,Qxg8#', 'https://lichess.org/training/a9GzE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a9oXk', 'Blitz', 'ChessRichard123', 1596, 'Jeorcu', 1536, 'e4,d6,Nf3,f5,exf5,Bxf5,d4,Nf6,Nc3,e6,Bd3,Be7,O-O,O-O,Bxf5,exf5,Ng5,Qd7,Re1,Nc6,Ne6,Rf7,d5,Ne5,f4,Neg4,h3,Nh6,Qe2,Re8,Nb5,c6,Nbc7,Rc8,dxc6,bxc6,Qd3,Rxc7,Qg3,Nh5,Qf3,Nf6,Nxc7,Qxc7,Bd2,Ne4,Bc3,Nxc3,Qxc3,d5,Re2,Bf6,Qc5,Rf8,Rae1,Nf7', 'Qxf8+,Kxf8,Re8#', 'https://lichess.org/training/a9oXk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a9p5A', 'Classical', 'Mohamadsallaia7', 1633, 'kaunain-95', 1653, 'd4,Nf6,Nc3,e6,e4,Bb4,Nf3,Nxe4,Bd2,f5,Ne5,O-O', 'Nxe4,Bxd2+,Nxd2', 'https://lichess.org/training/a9p5A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a9qNE', 'Rapid', 'crashyourmind', 1924, 'Palych', 1850, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,d5,Bd3,f5,Ne5,Bd6,Qh5+,g6,Nxg6,hxg6,Qxh8+,Kd7,Qxd8+,Kxd8,Bg5+,Nxg5,O-O,c6,c4,dxc4,Bxc4,Be6,Bd3,Kc7,Nc3,Nd7,f4,Nf7,Rfe1,Nf8,Rac1,Bxf4,Rc2,Rd8,g3,Bh6,Bf1,Rxd4', 'Nb5+,Kb6,Nxd4', 'https://lichess.org/training/a9qNE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a9SG0', 'Rapid', 'sobti16', 1668, 'MisterPuffin', 1683, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,b5,Bxb5,Qxd5,Qe2,Bd6,O-O,Bb7,Bc4', 'Nd4,Bxd5,Nxe2+', 'https://lichess.org/training/a9SG0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a9uIz', 'Blitz', 'NM ShahxaibKhan', 2347, 'joseag1303', 2351, 'e3,g6,d4,Bg7,h4,Nf6,h5,Nxh5,Rxh5,gxh5,Qxh5,d5,Bd3,Qd6,Nc3,c6,e4,dxe4,Nxe4,Qxd4,Nf3,Qd5,Neg5,Bf5,c4,Qxd3', 'Qxf7+,Kd8,Qxg7', 'https://lichess.org/training/a9uIz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a9uuT', 'Blitz', 'maulwurf', 2032, 'DragonPsyruz', 2031, 'e4,c5,Nf3,Nc6,Bb5,Nd4,Nc3,a6,Be2,Nxe2,Qxe2,g6,O-O,Bg7,Rd1,e6,d4,cxd4,Nxd4,Ne7,Bg5,Qb6,Be3,Qc7,f4,O-O,Rf1,Nc6,Nb3,b5,Rad1,Bb7,e5,Ne7,g4,Nd5,Nxd5,Bxd5,f5,Bxe5,Bh6,Bg7,Bxg7,Kxg7,f6+,Kg8,Qe3,Kh8,Qh6,Rg8,Rd3,Qc4,Rf4,Qxc2', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/a9uuT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('a9VaN', 'Blitz', 'wastl', 1873, 'Romeo1426', 1816, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,b6,Be3,Bb7,Qd2,Nc6,Be2,Qd7,a3,O-O-O,b4,h5,Qb2,h4,Nh3,Nh7,Qd2,f6,O-O,g5,Rfb1,e6,a4,Ne7,a5,Rdg8,axb6,axb6,c5,dxc5,bxc5,g4,fxg4,f5,gxf5,exf5,cxb6,f4,Bxf4,Bxd4+,Kh1,Bxc3,Qxc3,Nf5,Bf3,Ng3+,hxg3,hxg3,bxc7,Nf8,Rxb7,Rxh3+,gxh3', 'Qxh3+,Kg1,Qh2+,Kf1,Qf2#', 'https://lichess.org/training/a9VaN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A9VwC', 'Rapid', 'Tsukuru', 2328, 'SAJIBHALDER', 2328, 'c4,e5,g3,Nf6,Bg2,Bc5,Nc3,Nc6,e3,O-O,Nge2,d5,cxd5,Nb4,d4,exd4,exd4,Bb6,Bg5,Bf5,O-O,h6,Bxf6,Qxf6,a3,Nc2,Rc1,Nxd4,Nxd4,Bxd4,Nb5,Bxb2,Nxc7,Rac8,Rc4,Bxa3,Qb3,Bd6,Nb5,Rxc4,Qxc4,a6,Nxd6,Qxd6,Qb3,b5,Ra1,Rc8,Qa2,Bd3,h4,b4,Bf1,Bxf1,Kxf1,Rc5,Qxa6', 'Rc1+,Rxc1,Qxa6+', 'https://lichess.org/training/A9VwC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A9X2h', 'Rapid', 'ap3206', 1676, 'Sudhanshu_Sharma', 1696, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,d6,h3,Be7,O-O,O-O,b3,a6,Bxc6,bxc6,Bb2,Bb7,c4,Re8,Nc3,Bf8,d4,exd4,Qxd4,d5,exd5,cxd5,cxd5,Nxd5,Nxd5,Bxd5,Nh2,Qg5,Ng4,h5,f4,Qf5', 'Nh6+,Kh7,Nxf5', 'https://lichess.org/training/A9X2h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('A9Xbw', 'Classical', 'LEAC', 1627, 'Franc0cc0', 1974, 'd4,c6,e4,d5,e5,e6,Nf3,c5,c3,Qb6,Qc2,Nc6,Be3,Bd7,Be2,Rc8,O-O,cxd4,Bxd4', 'Nxd4,Nxd4,Qxd4,cxd4,Rxc2', 'https://lichess.org/training/A9Xbw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AA0bt', 'Rapid', 'Fer90', 2199, 'IsoR1968', 2250, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,h3,O-O,Be3,b6,Qd2,c5,d5,a6,a4,Nbd7,Bh6,Ne5,Nxe5,dxe5,Bxg7,Kxg7,Be2,e6,d6,Bb7,f3,Nh5,O-O-O,Qd7,g4,Nf4,h4,Rfd8,g5,Bc6,h5,Nxh5,Rxh5,gxh5,f4,Bxa4,fxe5,Rg8,Bxh5,Bc6,Qf4,Qd8,Qxf7+,Kh8,Qf6+,Rg7,Rf1,Bd7,Kb1,b5,Ne2,a5,Nf4,Qg8,Nh3,a4,Bf7,Qc8,g6,a3,b3,a2+,Ka1,b4,Ng5,c4,Bxe6,cxb3,Nf7+,Kg8,Nh6+,Kh8,Nf7+,Kg8,Nd8+,Bxe6', 'Qf8#', 'https://lichess.org/training/AA0bt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aa0RG', 'Blitz', 'OmayaR', 1604, 'KaKuF', 1571, 'e4,c5,c3,b6,d4,e6,g3,Bb7,Bg2,Nf6,Qe2,g6,Na3,cxd4,cxd4,Bxa3,bxa3,Nc6,Bb2,O-O,f4,Nh5,Nf3,Ng7,O-O,Qc7,d5,Na5,Rac1,Qd6,dxe6,dxe6,Rfd1,Qe7,Ng5,Rac8,Qg4,Rxc1,Rxc1,Rc8,Rd1,Qc5+,Kh1,Qc2,Ba1,h6,Nh3,Bxe4,Bxe4,Qxe4+,Kg1,Rc2', 'Rd8+,Kh7,Ng5+,hxg5,Qh3+,Nh5,Rh8#', 'https://lichess.org/training/aa0RG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aa2VV', 'Blitz', 'Ellycheru', 1965, 'brother5', 2047, 'd4,g6,c4,Bg7,Nc3,Nf6,e4,d6,Nf3,O-O,Bd3,Nc6,O-O,e5,d5,Ne7,Ne1,Ne8,f4,f5,fxe5,Bxe5,exf5,Nxf5,Bxf5,Bxf5,Bh6,Ng7,Nf3,Bf6,Nd4,Bd7,Bxg7,Kxg7,Qd3,c6,Ne4,Be5,Rxf8,Qxf8,Rf1,Qd8,dxc6,bxc6,Nf3,Qb6+,Kh1,Qxb2,Rb1,Qxa2,Nxe5,Bf5,Nxc6,Re8,Re1,Bxe4,Qd4+,Kh6,Qe3+,g5,Qh3+,Kg6,Rf1,Bxc6,Qf5+,Kh6,Qf6+,Kh5,Qf7+,Kg4,h3+,Kg3', 'Rf3+,Bxf3,Qxf3+,Kh4,Qg4#', 'https://lichess.org/training/aa2VV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aA3O8', 'Rapid', 'Amateur15', 1734, 'borkot', 1728, 'd4,Nf6,c4,d5,Nf3,g6,Nc3,Bg7,e3,O-O,cxd5,Nxd5,Bc4,e6,O-O,a6,e4,b5,Bb3,Ne7,a4,b4,Ne2,Bb7,Bc2,b3,Bd3,Nec6,Bb1,Ra7,Ra3,Na5,Bd2,Nc4,Rxb3,Bc6,Rb4,Nxd2,Qxd2,a5,Rc4,Qd7,b3,Rb7,Bc2,Ra7,Rc5,f5,d5,exd5,Rxa5,Rxa5,Qxa5,dxe4,Rd1,Qe7,Nfd4,e3', 'Nxc6,Nxc6,Qd5+,Kh8,Qxc6', 'https://lichess.org/training/aA3O8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aa5ce', 'Rapid', 'mitmat', 1673, 'Kulture', 1645, 'e4,c5,Nf3,d6,Bc4,Nc6,b3,e6,Bb2,a6,O-O,b5,Be2,Be7,Bxg7,Bf6,Bxh8,Bxh8,c3,b4,a3,bxc3,Nxc3,Nd4,Nxd4,cxd4,Na4,d3,Bxd3,Bxa1,Qxa1,Rb8,Bc4,Qa5,Nc3,d5,exd5,exd5,Bxd5,Ne7,Re1,Kf8,b4,Qb6,Ba2,Ng6,Nd5,Qd8,Qc3,Be6,Qc5+,Kg8,g3,Rc8,Qd4,Kf8,h4,Ne7,Qh8+,Ng8,Nc3,Rxc3,Bxe6,Rc6,Bg4,Rg6,Bf5,Rg7,d3,Qf6,Bd7', 'Rxg3+,fxg3,Qxh8', 'https://lichess.org/training/aa5ce');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Aa5XG', 'Rapid', 'ChicoTR', 1757, 'custommods', 1703, 'e4,d5,exd5,Nf6,d4,c6,dxc6,Nxc6,Nf3,Bg4,Bb5,Qd5,Nc3,Qe6+,Be3,a6,d5,Qf5,Bd3,Qd7,dxc6,bxc6,h3,Bh5,g4,Bg6,Bxg6,Qxd1+,Rxd1,hxg6,Ne5,Rc8,g5,Nd5,Nxd5,cxd5,c3,e6,b4,Bd6,Bf4,Rh4,Bg3', 'Re4+,Kd2,Bxe5,Bxe5,Rxe5', 'https://lichess.org/training/Aa5XG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AaaqL', 'Rapid', 'daniluvas', 1645, 'Sonaldo', 1699, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,d3,Bg4,Bd2,Nf6,h3,Bh5,a3,Qe7,b4,Bb6,a4,Nd4,g4,Nxg4,Nxd4,Bxd4,c3,Nxf2,Qxh5,g6,Qf3,Nxh3+,Kh2,Ng5,Bxg5,Qxg5,Qxf7+,Kd8,Be6,Qh5+,Bh3,Qe2+,Kg3,Qe3+,Kg4', 'h5+,Kh4,g5#', 'https://lichess.org/training/AaaqL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AaEaf', 'Rapid', 'matyadb', 1683, 'robercf281967', 1602, 'e4,c5,Nf3,e6,c3,Nc6,d4,cxd4,cxd4,Nf6,Nc3,d5,e5,Nd7,Bb5,a6,Ba4,Bb4,Bd2,Nb6,Bxc6+,bxc6,Qb3,a5,a3,Bxc3,Qxc3,Nc4,Rc1,Ba6,b3,Nxd2,Qxc6+,Ke7,Qc5+,Ke8,Nxd2', 'Rc8,Qxc8,Bxc8', 'https://lichess.org/training/AaEaf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AAEEP', 'Rapid', 'lifoo', 1889, 'KommanderKeen', 1981, 'd4,Nf6,Nf3,e6,Bf4,d5,e3,c5,c3,Nc6,Bb5,Be7,Ne5,Bd7,Nxc6,Bxc6,Bxc6+,bxc6,O-O,O-O,Qc2,Bd6,Bxd6,Qxd6,Nd2,e5,dxe5,Qxe5,Nf3,Qh5,h3,Ne4,Rad1,Rfe8,Nd2,Ng5,Qf5,g6,Qd7,Re6,Nb3,Nxh3+,gxh3,Qxh3,Qc7,Re4,f3,Rxe3,Qf4,Rae8,Qg4,Rxf3', 'Qxf3,Qxf3,Rxf3', 'https://lichess.org/training/AAEEP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aaeSl', 'Blitz', 'ettogrammo', 1841, 'Chris_Johnson', 1850, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,Bd3,Bg4,O-O,Nf6,c3,e6,Nbd2,Be7,Qc2,O-O,Ng5,h6,Ndf3,hxg5,Nxg5,Ne4,Nxe4,dxe4,Bxe4,Bf5,Bxf5,exf5,Qxf5,Re8,Qg4,Bf6,f4,Qd5,f5,Re4,Bf4,Be7,Rf3,Bf6,Rh3,Rae8,Qh5,Kf8,Bg3,a6,Rc1,b5,a4,bxa4,Kh1,Qc4', 'Bd6+,Kg8,Qh8#', 'https://lichess.org/training/aaeSl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AAf9N', 'Blitz', 'FM RSUPE_MiRacLe', 2571, 'ehrlichroy', 2519, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,Ba5,b4,cxd4,Qg4,Ne7,bxa5,dxc3,Qxg7,Rg8,Qxh7,Nbc6,Nf3,Qxa5,Bd3,Bd7,Bf4,O-O-O,Bg3,d4,Qxf7,Rdf8,Qh7,Nf5,Bxf5,Rh8,Qg7,Rhg8,Qh6,Rxf5,O-O,Qd5,Rfd1,Nxe5,Nxe5,Rxe5,Qf4,Bc6,f3,Rxg3,hxg3,Qc5,Qxd4', 'Re1+,Kf2,Qxd4+,Rxd4,Rxa1', 'https://lichess.org/training/AAf9N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AAfBt', 'Rapid', 'Alp2018', 1836, 'double-attack', 2183, 'e4,d5,exd5,Nf6,d6,cxd6,Nf3,e5,Nc3,Be7,d4,e4,Ng5,d5,Be2,O-O,h4,Nc6,h5,h6,Nh3,Bd6,f3,Bg3+,Kf1,Nxh5,fxe4,Qf6+,Kg1,Bxh3,Rxh3,Qf2+,Kh1,Nf4,Rxg3', 'Qxg3,Bxf4,Qxf4', 'https://lichess.org/training/AAfBt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AAFWn', 'Rapid', 'karaya2', 1863, 'MelGeorgeFCadano', 1930, 'a3,c6,b3,d5,Bb2,Bf5,d3,Nd7,Nf3,Qc7,g3,e5,Bg2,Bd6,O-O,Ngf6,Nbd2,O-O,c4,d4,b4,b6,Nh4,Bg4,b5,c5,Bxa8,Rxa8,Nhf3,Bh3,Re1,h6,a4,g5,Nb3,Qb7,a5,g4,Nh4,Re8,axb6,axb6,Nd2,e4,dxe4,Nxe4,Ra6,Nb8,Ra1,Be7,Nxe4,Bxh4,f3,Rxe4,gxh4,Re3,Bc1,Re5,Bxh6,Re6,Bf4,Nd7,Qd3,Nf6,Ra6', 'gxf3,Qxf3,Qxf3,exf3,Rxe1+', 'https://lichess.org/training/AAFWn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aAgfG', 'Classical', 'OzzyG555', 1770, 'spinola01', 1710, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,c4,c5,Ngf3,Nc6,cxd5,Nxd4,Nxd4,cxd4,dxe6,fxe6,Nf3,Bc5,Bb5', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/aAgfG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aAgHI', 'Rapid', 'Noct_Val', 1775, 'Christian6200', 1784, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Bc4,c6,Nf3,b5,Bxf7+,Kxf7,Ne5+,Ke8,Qf3,Nf6,Nxc6,Qc7,Nxb8,Qxb8,d4,Bb7,Qg3,Qxg3,hxg3,Bxg2,Rg1,Bf3,Bf4,a6,a4,b4,Nb1,e6,Nd2,Be4,Nxe4,Nxe4,f3,Nf6,O-O-O,Be7,Rge1,Kf7,g4,Nd5,Be5,Rac8,f4,b3,c3,Nxc3,bxc3,Rxc3+,Kb2,Rf3,d5,Rc8,dxe6+,Ke8,Re2,Bf6,Bxf6,gxf6,f5,Rc4,e7,Rc8,Rh1,Rfc3', 'Rxh7,Rc2+,Rxc2,Rxc2+,Kxb3', 'https://lichess.org/training/aAgHI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aAhSD', 'Rapid', 'fritzdagger', 1714, 'PedroReyes', 1708, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,a6,Nd6+,Bxd6,Qxd6,Nf6,Nc3,Qb6,Be3', 'Qxb2,Nd1,Qxa1', 'https://lichess.org/training/aAhSD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aAi6V', 'Rapid', 'marketman', 1858, 'poppinfresh', 1891, 'd4,Nf6,Nf3,d5,Bf4,e6,e3,Nh5,Be5,f6,Bg3,Nxg3,hxg3,Nc6,Bd3,f5,Nh4,Qf6,c3,g6,Nd2,Bd7,Qe2,Bd6,a4,a6,b4,Kf7,O-O-O,Qe7,Nb3,Nxb4,cxb4,Bxa4,Qa2,b5,Rd2,Bxb4,Rc2,c5,dxc5,Bxc5,Nxc5,Bxc2,Bxc2,Qxc5,Nf3,a5,Ne5+,Ke7,Nd3,Qc3,Qb2,Rac8,Kb1,a4,Rc1,Qxb2+,Kxb2,Rc7,Bb1,Rxc1,Nxc1,Rc8,Na2,Kd6,Ka3,e5,Bd3,Rc5,Kb4,Kc6,Nc3,Kb6,Bxb5,a3', 'Na4+,Kc7,Nxc5,a2,Nb3', 'https://lichess.org/training/aAi6V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aAjrf', 'Rapid', 'Flaneto', 1734, 'JYATES12380', 1741, 'e4,c5,Nf3,h6,c3,a6,d4,e6,e5,Nc6,Be3,cxd4,cxd4,Bb4+,Nc3,Bxc3+,bxc3,Nge7,Bd3,O-O,O-O,Ng6,g3,b5,h4,Bb7,h5,Nh8,Nh4,f5,exf6,Qxf6,Qg4,Ne7,Ng6,Nhxg6,hxg6,Nd5,Be4,Nxe3', 'fxe3,Bxe4,Rxf6,Rxf6,Qxe4', 'https://lichess.org/training/aAjrf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AajSA', 'Rapid', 'chessfred222', 1861, 'Pinoriverite', 2067, 'd4,Nf6,Nf3,g6,Bf4,d5,Nc3,Bg7,Nb5,Na6,e3,c6,Nc3,Nc7,h3,O-O,g4,Bd7,Be2,Rc8,Ne5,Ne4,Nxe4,dxe4,g5,Nd5,h4,Nxf4,exf4,f6,Ng4,fxg5,fxg5,Bxg4,Bxg4,Rc7,c3,e5,h5,gxh5,Rxh5,exd4,Be6+,Kh8', 'Rxh7+,Kxh7,Qh5+,Bh6,Qxh6#', 'https://lichess.org/training/AajSA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AAjU2', 'Bullet', 'Isthemoment', 2690, 'GM Bestinblitz', 2760, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,c6,Bc4,Nf6,d4,Bg4,h3,Bxf3,Qxf3,Qxd4,Bb3,e6,Be3,Qd8,Qe2,Be7,Bd2,O-O,O-O-O,Nbd7,g4,a5,g5,Nd5,h4,b5,Nxd5,exd5,h5,a4,Bxd5,cxd5,g6,h6,Rhg1,f5,Qe6+,Kh8,Bxh6,Bf6,Bf4,a3,b3,Qc7,Bxc7,Nc5,Qxd5,Ne4,Be5,Rad8,Qxb5,Rb8,Bxb8', 'Bb2+,Kb1,Nc3#', 'https://lichess.org/training/AAjU2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aaJvH', 'Rapid', 'LickeyMumas', 1605, 'totakeisamistake', 1660, 'd4,Nf6,Bf4,d5,Nf3,c5,c3,Nc6,e3,e6,Bb5,Bd6,Ne5,Qc7,Bxc6+,bxc6,dxc5', 'Bxe5,Bxe5,Qxe5', 'https://lichess.org/training/aaJvH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aakpU', 'Blitz', 'IM yoseph2013', 2471, 'Nakimura', 2174, 'e4,c5,Nc3,d6,Nf3,Nf6,d4,cxd4,Nxd4,g6,Be3,Bg7,f3,O-O,Qd2,Nc6,Bc4,Bd7,O-O-O,Rc8,Bb3,Nxd4,Bxd4,b5,h4,a5,a3,b4,axb4,axb4,Nd5,Nxd5,Bxg7,Kxg7,exd5,Kg8,h5,Qa5,Qh6,g5,Qxg5+,Kh8,Qxe7,Qa1+,Kd2,Qxb2,Qxd7,Rfe8,Rde1,Qc3+,Kd1,Qd4+,Kc1,Qa1+,Kd2,Qc3+,Kc1', 'Rxe1+,Rxe1,Qxe1+', 'https://lichess.org/training/aakpU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AaLen', 'Rapid', 'joshua129', 1803, 'cirilek', 1915, 'e4,d6,d4,e6,c4,c6,Nc3,h6,Nf3,Nd7,Be2,Be7,O-O,Bf6,Bf4,e5,dxe5,dxe5,Bg3,Ne7,Qc2,Ng6,Rad1,Qe7,h3,O-O,a3,Rd8,b4,a6,c5,Bh4,Bxh4,Nxh4,Nxh4,Qxh4,Bg4,h5,g3,Qg5,Be2,g6,h4,Qe7,Bc4,Nf6,Qc1,Kg7,Qg5,Bh3,Rfe1,Bg4,Rxd8,Rxd8,Re3,Ng8,Qxe7,Nxe7,f3,Bc8,Na4,Be6,Bxe6,fxe6,Nb6,Ng8,Nc4,Kf6,Nd6,Rd7,Ne8+,Ke7,Nd6,Nf6,Kf2,Ne8,Nc4,Kf6,Ke2,Rd4,Na5,Rd7,g4,hxg4,fxg4,g5,Rf3+,Kg6,h5+,Kg7,Nc4,Rd4,Nd2,Nf6,Rg3', 'Rxd2+,Kxd2,Nxe4+,Ke3,Nxg3', 'https://lichess.org/training/AaLen');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aan9H', 'Rapid', 'chessgrandmaster44', 1723, 'Killscheg', 1717, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,O-O,Nf6,Nc3,Nxd4,Bxd7+,Qxd7,Qxd4,Be7,Be3,O-O,Rad1,Qg4,h3,Qg6,Nd5,Bd8,Nxf6+,Bxf6,Qb4,c5,Qxb7,Rab8,Qd5,Bxb2,c4,Rbd8,Bg5,Bf6,Bxf6,Qxf6,Rfe1,Qe7,e5,dxe5,Qxe5', 'Qxe5,Rxe5,Rxd1+', 'https://lichess.org/training/aan9H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aANSu', 'Rapid', 'San_Gonnella', 1764, 'shikantaza', 1741, 'e4,e5,Nf3,Nc6,Bb5,Nge7,O-O,a6,Ba4,b5,Bb3,h6,c3,Ng6,Re1,Bc5,a4,Bb7,d4,Be7,d5,Na7,Bc2,d6,b4,O-O,a5,c6,dxc6,Bxc6,Nbd2,Bd7,h3,Be6,Nf1,Rc8,Ra3,Qd7,Ng3,Rfd8,Nf5,d5,exd5', 'Bxf5,Bxf5,Qxf5', 'https://lichess.org/training/aANSu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aaquk', 'Blitz', 'ale888666', 1548, 'JoPa1590', 1566, 'e4,e5,Nf3,d6,d4,Bg4,dxe5,Bxf3,Qxf3,dxe5,Bc4,Nf6,Qb3,Be7,Bxf7+,Kf8,Nc3,b6,Bg5,Nc6,Bd5,Nd4,Qa4,c6,Bxc6,Nxc6,Qxc6,Rc8,Qb7,Rc7,Qa6,Ng4,Bxe7+,Qxe7,Nd5,Qc5,Nxc7', 'Qxf2+,Kd1,Ne3+,Kc1,Qxc2#', 'https://lichess.org/training/aaquk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aaR9n', 'Blitz', 'dattauma', 1903, 'shatak', 2076, 'e4,c5,Ne2,e6,Nbc3,Nc6,g3,d5,exd5,exd5,d4,Nf6,Bg2,Be6,Bg5,h6,Bxf6,Qxf6,dxc5,Bxc5,O-O,d4,Bxc6+,bxc6,Ne4,Qe7,Nxc5,Qxc5,Qxd4,Qxc2,Nf4,O-O,Rac1,Qf5,Rxc6,Bxa2,Rc5,Qg4,f3,Qg5,Rxg5,hxg5,Nh5,f6,g4,Rfd8,Qe4,Bf7,Ng3,Rab8,Nf5,Rxb2,Rf2,Rd1+,Kg2,Rb8,Qe7,Re8,Qxa7,Ree1,Rb2,Re8,Rb7,Rd2+,Kf1', 'Bc4+,Kg1,Re1#', 'https://lichess.org/training/aaR9n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AardS', 'Rapid', 'JohnJairo', 1640, 'yusufdemir1986', 1627, 'b3,b5,e3,a6,Bb2,c5,c4,b4,Qf3,Nc6,a3,Bb7,axb4,Nxb4,Qxb7,Nc2+,Kd1,Nxa1,Bxa1,Rb8,Qxa6', 'Ra8,Qb7,Rxa1', 'https://lichess.org/training/AardS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AASII', 'Rapid', 'zalem', 1700, 'Fao1', 1894, 'd4,d5,c4,c6,Nf3,h6,e3,Bg4,Nc3,e6,Be2,Bb4,O-O,Nf6,Qb3,Bxc3,Qxb7,Nbd7,bxc3,O-O,Qxc6,Rc8,Qa6,dxc4,Qxa7,Ne4,Qa3,Nb6,Qb2,Rb8,Qc2,Bxf3,Bxf3,Ng5,Be2,e5,a4,exd4,exd4,Qd5,a5,Ra8,Bxg5,Rxa5,Rxa5,Qxa5,Be7,Re8,Bb4,Qd5,Bf3,Qg5,Bc6,Re6,d5,Rg6,f4,Qh5,d6,Rf6,Bc5', 'Qxc5+,Qf2,Qxc6', 'https://lichess.org/training/AASII');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aAsRx', 'Rapid', 'magen9384915', 2156, 'oliverK0308', 2107, 'b3,d5,Bb2,c5,e3,Nc6,f4,Nf6,Nf3,Bg4,Bb5,Qc7,Be5,Qd7,O-O,a6,Bxc6,bxc6,c4,e6,h3,Bxf3,Qxf3,Bd6,d3,Qe7,Bxd6,Qxd6,Nc3,O-O,e4,Qd8,e5,Nd7,Rae1,Qa5,Na4,Nb6,Nxb6,Qxb6,f5,exf5,Qxf5,Rae8,e6,fxe6,Rxe6', 'Rxf5,Rxe8+,Kf7,Rxf5+,Kxe8', 'https://lichess.org/training/aAsRx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AAsyu', 'Rapid', 'chingylov', 1936, 'michele31795', 1833, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Bc4,c5,Ne2,Nc6,Be3,O-O,Rb1,Qa5,Qd2,cxd4,cxd4,Qxd2+,Kxd2,Rd8,d5,a6,Rhd1,b5,Bb3,Bb7,Ke1,Ne5,h3,Rac8,Rbc1,Nc4,Bxc4,Rxc4,Rxc4,bxc4,Rc1,Rc8,Nd4,Kf8,Kd2,e6,dxe6,Bxe4,f3,Bd3,exf7,Rb8,Ne6+,Kxf7,Nxg7,Kxg7,Bd4+,Kh6,h4,Rd8,Kc3,Kh5,Re1,Kxh4', 'Bf6+,Kg3,Bxd8', 'https://lichess.org/training/AAsyu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AaTWd', 'Rapid', 'SaveADog', 1771, 'zambesi', 1753, 'Nf3,Nf6,g3,g6,Bg2,Bg7,O-O,O-O,c4,c5,Nc3,Nc6,d4,cxd4,Nxd4,Nxd4,Qxd4,d6,Qd3,a6,Be3,Bf5,Qd2,Qc7,Rac1,e6,Bf4,e5,Bg5,Be6,Nd5,Bxd5,cxd5,Qd7,Qa5,Rac8,h4,Rfe8,Bxf6,Bxf6,Kh2,Bd8,Bh3', 'Qxh3+,Kxh3,Bxa5', 'https://lichess.org/training/AaTWd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AAUS8', 'Rapid', 'Leafox', 1655, 'ohhaigyz', 1721, 'e4,c5,Nf3,Nf6,e5,Nd5,Bc4,e6,a3,Nc6,c3,f6,exf6,Nxf6,Ng5,d5,Bb5,h6,Bxc6+,bxc6,Nf3,Bd6,O-O,O-O,d3,e5,Re1,Bg4,Nbd2,e4,dxe4,dxe4,Nxe4,Nxe4,Rxe4', 'Bxh2+,Kxh2,Qxd1', 'https://lichess.org/training/AAUS8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AaVqO', 'Blitz', 'ademcerkini', 2144, 'jei1212', 1844, 'd4,Nf6,Bg5,e6,Bxf6,Qxf6,e3,d5,Nd2,c5,Ngf3,Nc6,c3,Be7,Bb5,Bd7,Bxc6,Bxc6,O-O,O-O,Ne5,Bd6,f4,Bxe5,fxe5,Qg5,Rf3,f6,exf6,Rxf6,Nf1,Rxf3,Qxf3,Rf8,Qg3,Qf6,h4,cxd4,exd4,Qf4,Qxf4,Rxf4,g3,Re4,Kf2,e5,Nd2,Rg4,dxe5,Kf7,Re1,Ke6,Nf3,h6,Nd4+,Ke7,e6,Rg6,Nf5+,Ke8,e7', 'Rf6,g4,g6,Kg3,gxf5', 'https://lichess.org/training/AaVqO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aAW7R', 'Rapid', 'The_Laminator', 2101, 'DEVIL14', 2027, 'd4,Nf6,c4,c5,e3,e6,Nf3,Be7,Bd3,O-O,O-O,d5,cxd5,exd5,Nc3,c4,Bc2,Bg4,Re1,Bb4,h3,Bh5,Bd2,Re8,a3,Ba5,Qe2,Nc6,Qf1,a6,Bd1,b5,Ne5,Nxe5,dxe5,Rxe5,f4,Bxd1', 'fxe5,Bc2,exf6', 'https://lichess.org/training/aAW7R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aaxXU', 'Classical', 'Abu-Ghassan', 1939, 'jeanksilva', 1907, 'e4,e5,Nf3,Nc6,Bb5,d6,Bxc6+,bxc6,h3,Ba6,d3,h6,O-O,Nf6,Re1,Be7,d4,exd4,Nxd4,c5,Nc6,Qd7,Nxe7,Qxe7,Nc3,O-O,Nd5,Nxd5,Qxd5,Rab8,c4,Bb7,Qd3,Qf6,Re3,Qg6,b3,f5,Rg3,Bxe4', 'Qxe4,fxe4,Rxg6', 'https://lichess.org/training/aaxXU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aAZe5', 'Classical', 'Mjalal', 1887, 'Rezaatharinia', 2042, 'e4,c5,Nf3,Nc6,Bc4,e6,c3,d5,exd5,exd5,Bb5,Bd7,Qe2+,Be7,O-O,a6,Bxc6,Bxc6,d4,b6,Ne5,Bb7,Bg5,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/aAZe5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aAZHx', 'Rapid', 'SahilTiwari', 1720, 'Chaton_31', 1737, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,c3,d6,Be3,Bxe3,fxe3,Ng4,h3,Nxe3,Qd2,Nxc4,dxc4,Be6,Na3,O-O,O-O-O,Na5,Qe2,c5,h4,a6,h5,Bg4,h6,g6,b4,cxb4,cxb4,Nc6,c5,Nd4,Qd3,Rc8,Nxd4,Bxd1,Qxd1,exd4,Qxd4,Qg5+,Kb2,Qxg2+,Nc2,f6,Rg1,Qh3,Qd5+,Kh8,Qxd6,Qxh6,e5,Rcd8,Qb6,Qg7,exf6,Rxf6', 'Qxd8+,Rf8+,Qd4', 'https://lichess.org/training/aAZHx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aB0sa', 'Rapid', 'Mandiri', 2017, 'Ruthwin', 2071, 'e4,c5,Nf3,a6,Be2,g6,O-O,Bg7,Nc3,Nc6,d3,e6,Bg5,Qc7,h3,d6,Qd2,h6,Be3,Nd4,Bxd4,cxd4,Nd1,Ne7,c3,dxc3,Nxc3,Bd7,Rac1,Qb6,d4,O-O,e5,Rfd8,Ne4,dxe5,dxe5,Bc6,Qf4,Qxb2,Nf6+,Kh8,Rce1,Ng8,Ng4,Rd7,h4,h5,Ngh2,Nh6,Bc4,Nf5,g4,hxg4,Nxg4,Rad8,h5,Rd4,Nxd4,Rxd4,Qg5,Rxc4,hxg6,Qd4,Qh5+,Kg8,Nf6+,Bxf6', 'Qh7+,Kf8,Qxf7#', 'https://lichess.org/training/aB0sa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ab1Hd', 'Blitz', 'LordSirKnight', 2181, 'ultrainstintoJair', 2184, 'e3,d5,c4,c6,Qc2,Nf6,b3,e6,Bb2,Be7,Nf3,a5,Nc3,Nbd7,a3,b6,Rc1,Ba6,Qb1,dxc4,bxc4,Nc5,d4,Ncd7,Ne2,Rb8,Ng3,h5,h4,Ng4,d5,exd5,Bxg7,Rg8,Qh7,Ndf6,Bxf6,Nxf6,Qc2,Bxa3,Rd1,Bb4+,Nd2,dxc4,Bxc4,Bxc4,Qxc4,Qd5,Ke2,Bxd2,Qxd5,Nxd5,Rxd2,Rd8,Ne4,f5,Rxd5,cxd5,Nf6+,Kf7,Nxg8,Rxg8,Rb1,Rb8,Rb5,Ke6,Kd3,a4,Kd4,a3,Kc3,Ra8,Rxb6+,Ke5', 'f4+,Ke4,Re6#', 'https://lichess.org/training/Ab1Hd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ab4BC', 'Rapid', 'vadmi777', 1801, 'GeodaProject', 1666, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Bxf7+,Kxf7,Nxe5+,Ke7,c3,Nc6,Nf3,d6,d4,Bg4,Qd3,Nf6,Nh4,Kf7,h3,Bh5,O-O,Be7,Nf5,Rf8,f4,Bg6,Nh4,Bxe4,Qg3,Kg8,f5,d5,Bh6,Rf7,Bg5,Bd6,Qe3,Qd7,Nd2,Ne7,g4,Qc6,Rac1,b5,b3,a5,c4,Nc8,cxb5,Qxb5,Bxf6,Rxf6,g5,Rf8,f6,Nb6,Nxe4,dxe4,Qxe4,Qxg5+,Kh1,Rae8', 'f7+,Rxf7,Qxe8+', 'https://lichess.org/training/Ab4BC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AB69F', 'Blitz', 'FM Obmeister', 2478, 'SharpyKnight', 2482, 'd4,Nf6,c4,g6,Nf3,d6,g3,Bg7,Bg2,O-O,O-O,Nbd7,Nc3,c6,e4,Qc7,Re1,e5,dxe5,dxe5,b3,Re8,Ba3,Qa5,Qc1,Bf8,Bxf8,Nxf8,a3,Qc7,b4,Bg4,h3,Bxf3,Bxf3,Ne6,Bg2,Nd4,Qg5,Kg7,Rad1,h6,Qc1,Rad8,c5,b5,cxb6,axb6,Qb2,Ra8,b5,cxb5,Nxb5,Nxb5,Qxb5,Rxa3,Rc1,Rc3,Rxc3,Qxc3,Rd1,Re6,Rd3,Qc5,Qb3,Rc6,Rf3,Qc4,Qxc4,Rxc4,Rb3,Nxe4,Bxe4,Rxe4,Rxb6,Re1+,Kg2,h5,h4,Re2,Ra6,Rb2,Ra5,Kf6,Ra6+,Kf5,Ra7,f6,Ra6,Rb5,Rc6,Rb2,Ra6,e4,Kf1,Rb1+,Ke2,Rb2+,Ke3,Rb3+,Ke2,Rb5,Rc6,Rb2+,Ke3,Rb3+,Ke2,Rb5,Ra6,Rb3,Ra5+,Kg4,Ra6,Rf3,Re6,f5,Rxg6+,Kh3,Rg5', 'Kg2,Rxh5,Rxf2+', 'https://lichess.org/training/AB69F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ab7ou', 'Classical', 'sahy31', 1966, 'mosqui09', 1830, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,d5,exd5,Nxd5,O-O,Be6,Re1,Qd6,d4,exd4,cxd4,Bb4,Bd2,O-O,Nc3,Nxc3,bxc3,Bxc4,cxb4,Nxb4,Bxb4,Qxb4,Rb1,Qa5,Rxb7,Bxa2,Re7,Bd5,Rbxc7,Bxf3,gxf3,Rae8,Rxa7', 'Qg5+,Kf1,Rxe7,Rxe7,Qxe7', 'https://lichess.org/training/Ab7ou');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ABBFw', 'Rapid', 'rotchopf', 2225, 'C_Whaley_BRR', 2141, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,f4,dxe5,fxe5,Nc6,Be3,Bf5,Nf3,e6,Be2,Bb4+,Nc3,Na5,c5,Nd5,Bd2,O-O,O-O,Ne7,a3,Bxc3,bxc3,b6,cxb6,cxb6,Nh4,Be4,Bg5,Qc7,Bd3,Bxd3,Qxd3,Nd5,Rf3,Rac8,Rc1,Nb3,Rc2,h6,Be3,Nxe3,Qxe3,Qe7,Rh3,Qxa3,g4,Qa1+,Kg2,Qd1,Re2,Rxc3,Qf2,Rxh3,Kxh3,Rc8,Qe3,Qf1+,Ng2,Nc1,Rf2,Rc3', 'Rxf1,Rxe3+,Nxe3', 'https://lichess.org/training/ABBFw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Abf1b', 'Rapid', 'Elieudo7', 1725, 'Telecomlord', 1730, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,c5,Nf5,Bxf5,exf5,Nf6,Bb5+,Nbd7,O-O,Be7,Nc3,a6,Bxd7+,Qxd7,Re1,O-O,Bf4,d5,Qf3,d4,Rad1,Bd6,h3,Bb8,Bxb8,Raxb8,g4,Rfd8,g5,Nd5,f6,Nxc3,bxc3,Qd5', 'Re8+,Rxe8,Qxd5', 'https://lichess.org/training/Abf1b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('abFdT', 'Blitz', 'shigapov69', 1947, 'Minecraftado', 1799, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke6,Nc3,Ne7,d3,c6,O-O,Kd6,Ne4+,Kc7,Qf7,Bd7,Bg5,Qe8,Qf3,h6,Bh4,g5,Bg3,Bg7,Nc5,Rf8,Qe2,b6,Bxe5+,Bxe5,Qxe5+,Kd8,Na6,Ng6,Qg7,Qf7,Qxh6,Bc8,Qxg5+,Qf6,Qg3,Bxa6,Bxa6,Nc7,Bc4,a5,c3,b5,Bb3,a4,Bc2,Rg8,d4,Ne7,Qh3,Rh8,Qd3,Ncd5,c4,bxc4,Qxc4,Qd6,h3,Nf4,Bxa4,Rxa4,Qxa4,Ne2+,Kh1,Qd7,Qc4', 'Rxh3+,gxh3,Qxh3#', 'https://lichess.org/training/abFdT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aBFiA', 'Rapid', 'FikroBiH', 1738, 'Vastas', 1682, 'd4,Nf6,c4,e6,Nc3,g6,Bg5,Bg7,e4,h6,Bh4,g5,Bg3,d5,cxd5,exd5,e5,Ng8,h4,g4,Be2,h5,f3,Nh6,fxg4,hxg4,Bf4,Rg8,Qd2,Nf5,Bg5,f6,exf6,Bxf6,Bxf6,Qxf6,Nxd5,Qd6,Nf4,Nc6,d5,Ncd4,O-O-O,Qc5+,Kb1,Bd7,Rc1,Qb6,Bc4,O-O-O,d6,Qxd6,Bxg8,Rxg8,Nge2,Bc6,Rhd1,Be4+,Ka1', 'Nb3+,axb3,Qa6+,Qa5,Qxa5#', 'https://lichess.org/training/aBFiA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AbGBx', 'Blitz', 'Sorq', 2138, 'greggz451', 2113, 'e4,d5,exd5,Nf6,d4,Bg4,Be2,Bxe2,Qxe2,Qxd5,Nf3,Nc6,O-O,O-O-O,Nc3,Qh5,Be3,e5,dxe5,Ng4,Rad1,Rxd1,Rxd1,Ncxe5,h3,Nxe3,Qxe3,Nxf3+,gxf3,Bc5,Qf4,Qxh3,Nb5,Bb6,Qxf7,Qh6', 'Qd7+,Kb8,Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/AbGBx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aBGwA', 'Rapid', 'HannHagen', 2195, 'CM MarklarMarklar', 2056, 'd4,Nf6,Nf3,c5,d5,d6,c4,b5,cxb5,a6,bxa6,Bxa6,Nc3,Nbd7,e4,Bxf1,Kxf1,g6,g3,Bg7,Kg2,O-O,a4,Qa5,Qc2,Rfb8,Bd2,Qb4,Rab1,Qb3,Qxb3,Rxb3,Rhe1,Ng4,h3,Nge5,Nxe5,Nxe5,Bg5,Nd3,Bxe7,Nxe1+,Rxe1,Rxb2,Nb5,Bf8,Bxf8,Kxf8,Nxd6,Rxa4,Re3,Ke7,e5,f5,exf6+,Kxd6', 'f7,Ra8,Re8,Rxe8,fxe8=Q', 'https://lichess.org/training/aBGwA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aBh2E', 'Rapid', 'LaraTiger', 1803, 'Lele99villa', 1749, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Be3,Qxb2,Nd2,Qxc3,Bb5+,Bd7,Bxd7+,Nxd7,Ne2,Qa5,O-O,f6,Qc2,Rc8,Rab1,b6,Nb3,Qa6,Qd2,c4,Nbc1,fxe5,dxe5,Nxe5,Nd4,c3,Qd1,Kd7,Qh5,Bd6,Bf4,Nf6,Qg5,c2,Rb2,Nd3,Qxg7+,Be7,Bg5,Nxc1', 'Bxf6,Ne2+,Nxe2', 'https://lichess.org/training/aBh2E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('abhbn', 'Rapid', 'abdulazizhani', 1853, 'Aditya1172005', 1853, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Re1,O-O,h3,Nxe4,Rxe4,d5,Bxd5,Qxd5,Nc3,Qd8,Nxe5,f5,Nxc6,Bxf2+,Kh1,bxc6,Rf4,Bg3,Rf3,f4,d4,Bg4,hxg4,Qh4+,Kg1,Rae8,Ne2,Rxe2,Qxe2', 'Qh2+,Kf1,Qh1#', 'https://lichess.org/training/abhbn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aBiqd', 'Rapid', 'condorenmiami', 2145, 'Kotomtom02', 2243, 'd4,Nf6,c4,e6,Nc3,c5,d5,a6,e4,b5,cxb5,axb5,Bxb5,Ba6,Bxa6,Nxa6,e5,Nxd5,Nxd5,exd5,Qxd5,Be7,Nf3,O-O,O-O,Nb4,Qe4,d5,exd6,Bxd6,Bg5,Qc7,a3,Nc6,Rad1,Rfe8,Qd5,Bf8,Qd7,Qxd7,Rxd7,Ne5,Nxe5,Rxe5,Be3,Rb8,Rb1,c4,Bf4,Rxb2,Rc1,Ree2,Rd8,Rxf2,Bd6,Rxg2+,Kh1,h6,Rxf8+,Kh7,Rxf7,Rgd2,Be5,Rb5,Rxg7+,Kh8,Rgg1+,Rxe5,Rxc4,Ree2,Rc8+,Kh7,Rc6', 'Rxh2#', 'https://lichess.org/training/aBiqd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('abIUJ', 'Rapid', 'klin0009', 1789, 'Sbusiso', 1808, 'e4,e5,Nf3,d6,Bc4,h6,d4,exd4,Qxd4,Nc6,Qd5,Be6,Qb5,Bxc4,Qxc4,Nf6,Nc3,g6,h4,h5,Ng5,Qe7,Nb5,a6,Nc3,Bg7,Be3,O-O,Rd1,Ne5,Qb3,b5,f4,Neg4,Bd4,c5,Bxf6,Qxf6,Nd5,Qxb2,Ne7+,Kh8,Nxf7+,Rxf7,Qxf7,Qc3+,Rd2,Qe3+,Re2', 'Qc1#', 'https://lichess.org/training/abIUJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Abivj', 'Rapid', 'RiskyRook', 1960, 'ibielen', 1979, 'd4,d5,Nf3,Nf6,e3,e6,Bd3,Bd6,Nbd2,O-O,O-O,Nbd7,b3,e5,dxe5,Nxe5,Bb2,Nxd3,cxd3,Re8,Rc1,c6,h3,Bf5,Qc2,a5,Nh4,Bd7,Rfe1,Ne4,Nhf3,Ng5,Nxg5,Qxg5,f4,Qg3,Nf3,Bxh3,Ng5,Bg4,Bxg7,Kxg7,Qc3+,f6,Nxh7,Kxh7,Qxf6,Bf3,Qf5+,Kh8,Qf6+,Qg7,Qxg7+,Kxg7,gxf3,Rh8,Kg2,Rag8,Rh1,Kf6+,Kf2,c5,Rcg1,Rxh1,Rxh1,Rg7,Rh5,Ke6,f5+,Ke7,Rh6,Bc7', 'f6+,Kf7,fxg7', 'https://lichess.org/training/Abivj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AbKBc', 'Rapid', 'James250592', 1970, 'CHANEL12', 1935, 'd4,Nf6,Bf4,g6,Nc3,Bg7,e4,d6,Qd2,O-O,O-O-O,Nbd7,f3,e5,dxe5,dxe5,Bh6,Qe7,Bxg7,Kxg7,h4,Nh5,Nd5,Qd6,g4,Ng3,Rh2,Nxf1,Rxf1,Qe6,Kb1,Qd6,h5,c6,hxg6,cxd5,Qh6+,Kf6,gxh7+,Ke7,Qxf8+,Nxf8,h8=Q,dxe4,fxe4,Ng6,Qg7,Be6,Nf3,Qa6,Nd2,Rd8,Qf6+,Ke8,b3,Rd6,Qf2', 'Rxd2,Qxd2,Qxf1+', 'https://lichess.org/training/AbKBc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aBkxG', 'Classical', 'fischer_vs_carlsen', 2085, 'bmx81', 1814, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Be2,Nh6,O-O,cxd4,cxd4,Nf5,Nc3,Nfxd4,Na4,Nxe2+,Qxe2,Qc7,Be3,Nxe5,Bf4,Nxf3+,Qxf3,Bd6,Rac1,Qb8,Rxc8+,Qxc8,Bxd6,Qd7,Qa3,f6', 'Nb6,axb6,Qxa8+', 'https://lichess.org/training/aBkxG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AbKz3', 'Blitz', 'Asdprom', 1724, 'jezzinho', 1732, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,Bc5,Bg5,h6,Bh4,g5,Bg3,d6,c3,Bg4,Nbd2,Bb6,h3,Bd7,Qc2,Qc8,a3,a5,Ba2,b4,cxb4,axb4,a4,O-O,Nc4,Bd4,Rb1,Be6,b3,Bc3+,Nfd2,Nd4,Qd1,Nd7,O-O,Nc5,Qh5,Kh7,Nf3,Ne2+,Kh1,Nxd3,Nxg5+,Kg7,Nxe6+,Qxe6,Qxe2,Nc5,Qg4+,Qg6,Qxg6+,fxg6,f3,Rf7,Be1,Bd4,Bxb4,Nd3,Bd2,g5,Ne3,Nf4,Nf5+,Kg6,Bxf4,gxf4,Rfc1,Be3,Rc6,Ra7,Rb2,Bc5,Rc2,Bb6,b4,Rxa4,Bxf7+,Kxf7,b5,Rb4,Nxh6+,Kg6,Ng4,Rxb5,Nf2,Rb1+,Kh2,Be3,Nd3,Rd1,Nb4,Bg1+,Kh1,Bc5+,Kh2', 'Bg1+,Kh1,Bf2+,Kh2,Bg3#', 'https://lichess.org/training/AbKz3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ABlDo', 'Blitz', 'dikches', 2301, 'IM gsoppe', 2411, 'd4,Nf6,c4,c5,Nc3,cxd4,Qxd4,Nc6,Qd1,e6,Nf3,d5,cxd5,exd5,e3,Bd6,Bd3,O-O,h3,Re8,O-O,Qe7,a3,Be6,Nd4,Rad8,b4,Ne5,Bb2,Nxd3,Qxd3,a6,Nxe6,fxe6,Ne2,Ne4,Nc3,Ng5,f4,Nf7,Ne2,Bb8,Rad1,Nd6,Be5,Nc4,Bxb8,Rxb8,Nc1,Nb2,Qd2,Nxd1,Rxd1,Rbc8,Nd3,Qc7,Rc1,Qb6,Nc5,Qd6,Nxb7,Rxc1+,Qxc1,Qb6,Nc5,Qd6,Qd2,e5,fxe5,Qxe5,Kf2,Rf8+,Ke2,Qh5+,Kd3,h6,Kc3,Qe5+,Kb3,a5,Nd7,a4+,Ka2,Qe4,Nxf8,Kxf8,Qf2+,Ke7,Kb2,Qc4,Qc2,Qf1,h4,Qe1,Qxa4,Qxe3,Qc2,d4,Qc7+,Ke6,Qc6+,Ke5,Qe8+,Kf4,Qf7+,Kg3,Qxg7+,Kh2,b5,d3,Qc3,Qe2+,Kb3', 'd2,Qxd2,Qxd2', 'https://lichess.org/training/ABlDo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AbLGu', 'Rapid', 'kiiopyu', 1902, 'mucckky', 1771, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Bc4,Nxc3,dxc3,Qxd1+,Kxd1,Bf5,Bd3,Bg6,Nf3,Nc6,Be3,Rd8,Ke2,e6,Rad1,Bd6,h3,f5,Ng5,Ke7,Bc4,Bf7,Nxf7,Kxf7,Rhe1,Ne5,Bb3,b6,Kf1,c5,Bf4,c4,Bxe5,cxb3,Bxd6,bxc2,Rc1,Rxd6,Rxc2,Rhd8,Rce2,g6,f3,h5,g4,hxg4,hxg4,fxg4,fxg4,Re8,g5,Rh8,Rf2+,Ke7,Kg2,Rf8,Rfe2,Rf5,Re5,Rxe5,Rxe5,Rd5,Rxd5,exd5,Kf3,Ke6,Kf4,a6,b3,b5,a3,Kd6,a4,bxa4,bxa4,a5,Ke3,Ke5,Kd3,Kd6', 'Kd4,Ke6,Kc5', 'https://lichess.org/training/AbLGu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('abmtp', 'Rapid', 'PseudoDev', 1975, 'Sahmat_s_Pesnice', 1858, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Nc3,c5,Be3,Qb6,Na4,Qb4+,Nc3,Qxb2,Nb5,Na6,dxc5,Bd7,Bd4,Qb4+,c3,Qa5,a4,Bxc5,Bxf6,gxf6,Qxd5,Bc6', 'Nd6+,Kd8,Nxb7+', 'https://lichess.org/training/abmtp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AboPi', 'Rapid', 'jacektop', 1955, 'bakr12', 1832, 'e4,c5,Bc4,a6,Nf3,Nf6,e5,Ng4,Ng5,Nh6,Qf3,e6,d3,Be7,Ne4,d5,exd6,Bxd6,Bxh6,gxh6,Nf6+,Ke7,Ne4,f5,Nec3,Nc6,Qe3,Ne5,f4,Nxc4,dxc4,Kd7,Na3,Qh4+,g3,Qf6,O-O-O,Kc7,Na4,Qe7,Rd3,Bd7,Rhd1,Bxa4,b3,Rad8,bxa4,Qe8,Rb3,Qxa4,Qxe6,Rhe8,Qd5,Qc6,Qf7+,Re7,Qxf5,Qe4,Qf6,Re6,Qb2,Be7,Rxb7+', 'Qxb7,Qxb7+,Kxb7,Rxd8,Bxd8', 'https://lichess.org/training/AboPi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AbPGI', 'Blitz', 'Busky26', 1768, 'BachBWV1080', 1766, 'c4,f5,Nf3,Nf6,Nc3,e6,d4,Bb4,Qc2,Bxc3+,Qxc3,O-O,Bg5,d6,e3,Nbd7,Be2,b6,O-O,Bb7,Bxf6,Nxf6,Nd2,Qe8,f3,Qg6,a4,a5,Rad1,Rae8,Bd3,h5,Rde1,h4,e4,fxe4,Nxe4,Qg5,Nxf6+,Rxf6,Be4,Bxe4,fxe4,Ref8,Rxf6,Rxf6,e5,dxe5,dxe5,Rf7,c5,h3,Qxh3,bxc5,Qb3,Qd2,Qc3', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/AbPGI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AbpZZ', 'Blitz', 'ShikoBella', 1751, 'Ayah_ndunn', 1672, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,f6,c3,Ne5,Nxe5,fxe5,cxd4,exd4,Qxd4,Nf6,Nc3,c5,Qe3,d6,O-O,Qe7,Qe2,b5,Bd3,c4,Bc2,a6,Bg5,h6,Bh4,Bb7,Rad1,O-O-O,Bxf6,Qxf6,Nd5,Bxd5,Rxd5,Qxb2,e5,Kc7,exd6+,Bxd6,Kh1,Rhe8,Qd2,c3,Qd3,Re5,Rxe5,Bxe5,Qg6,Bf6,a4,Rd2,Qf7+,Kb6,Qe6+,Ka5,axb5,Rxf2,Qxa6+,Kb4,Rb1', 'Qxb1+,Bxb1,Rf1#', 'https://lichess.org/training/AbpZZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('abQZ7', 'Blitz', 'aceboarder', 1933, 'UXBRIDGEBOY', 1574, 'c4,Nf6,Nf3,e6,Nc3,Bb4,g3,b6,Bg2,Nc6,O-O,Bb7,d3,d5,cxd5,Nxd5,Nxd5,Qxd5,a3,Bc5,e3,Qd7,d4,Bd6,b4,Be7,Nd2,Rb8,Nc4,O-O,Bb2,b5,Nd2,Bf6,Nf3,a6,Rc1,Na7,Re1,Be7,Ne5,Qe8,Rxc7,Bxg2,Rxa7,Bb7,Qh5,g6,Qh6,Bd8,d5,Bb6,Nd7,f6,Nxb6,exd5,Rd1,Qc6,Nxd5,Rfd8,Rc1,Qxd5,Rxb7,Qxb7,Bxf6,Rd6,Be5,Qd7,Bxd6,Qxd6,Rc5,Rd8,Qg5,Qd1+,Kg2,Qd2,Rc7,Qd3,Qe7,Qd5+,Kf1', 'Qh1+,Ke2,Qd1#', 'https://lichess.org/training/abQZ7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('abRt2', 'Rapid', 'skg98', 1859, 'jamilsilva', 1936, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Bg4,h3,Bh5,d3,f6,Nc3,Bb4,Bd2,Ne7,a3,Bc5,Qe2,O-O,g4,Bf7,Nh4,h6,Nf5,Nxf5,gxf5,b5,Kh2,Bd4,Rg1,Kh7,Qg4,Rg8,Qh4,Qe8,Rg2,Bh5,Rag1,Bf3,Rg6,h5,Qxf6,gxf6', 'Rh6#', 'https://lichess.org/training/abRt2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ABrw8', 'Blitz', 'X-NN-X', 2375, 'kinar1', 2392, 'e4,e5,Nf3,Nf6,Nc3,Bb4,Nd5,Nxd5,exd5,e4,Nd4,Qg5,c3,Qxd5,Qb3,Qxb3,axb3,Bc5,Nb5,Bb6,c4,d6,b4,Bd7', 'c5,dxc5,bxc5,Bxc5,Nxc7+', 'https://lichess.org/training/ABrw8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aBs1N', 'Blitz', 'Ben_Peach', 1845, 'ASLAN-62', 1811, 'e4,e6,d4,c6,c4,d5,cxd5,cxd5,e5,Nc6,Nf3,Bd7,Nc3,h6,Be2,Nge7,Be3,Nf5,O-O,Nxe3,fxe3,Be7,a3,O-O,Rc1,a6,Qe1,b5,b4,Rc8,Nb1,Qb6,g4,Na7,Qg3,a5,bxa5,Qxa5,g5,hxg5,Nxg5,Bxg5,Qxg5,b4,Qe7,Rxc1,Rxc1,Bb5,Bxb5,Qxb5,Qxa7,bxa3,Qxa3,Qe2,Rf1,Qg4+,Kf2,Rc8,Qb2,Qh4+,Ke2,Qxh2+,Rf2,Qh5+,Ke1,Qh1+,Ke2,Qh5+,Ke1,g5,Qb7', 'Rc1+,Kd2,Qd1#', 'https://lichess.org/training/aBs1N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AbSHp', 'Classical', 'amishan92', 1744, 'derek-julian500', 1665, 'e4,c5,Nf3,Nc6,Bc4,a6,d3,b5,Bd5,Bb7,Bf4,e6,Bxc6,Bxc6,c3,Nf6,Nbd2,d5,e5,Nh5,Be3,d4,cxd4,Bxf3,Nxf3,g6,g4,cxd4,Nxd4,Bb4+,Kf1,Ng7,Nc6', 'Qd5,Nxb4,Qxh1+', 'https://lichess.org/training/AbSHp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('abSkZ', 'Rapid', 'M_Soni', 1818, 'eraketh', 1886, 'e4,c5,Bc4,e6,Nc3,a6,a3,b5,Ba2,Bb7,d3,Ne7,Nf3,Nbc6,O-O,g6,Ng5,Bg7,Qf3,Ne5,Qe2,h6,Nf3,N7c6,Be3,d6,Nxe5,Nxe5,Rad1,Nc6,Qd2,g5,Ne2,Bxb2,Ng3,Bxa3', 'Qc3,Rh7,Qxa3', 'https://lichess.org/training/abSkZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AbsRU', 'Rapid', 'Schaak35', 1753, 'floydian94', 2056, 'd4,d5,c4,c6,Nc3,Nf6,Qc2,dxc4,e3,b5,f4,a6,a4,Bb7,Nf3,e6,Be2,Nbd7,O-O,Bd6,e4,Bb4,Rd1,O-O,e5,Bxc3,exf6,Bb4,fxg7,Kxg7,f5,Qf6,fxe6,fxe6,Ng5,Qf2+,Kh1,Rf5,Nxe6+,Kh8,Bh6,c5,Rg1,Re8,Bg7+,Kg8,Raf1,Rxe6,Rxf2,Rxf2,Be5,Nxe5,dxe5,Rxe5', 'Bxc4+,bxc4,Qxf2', 'https://lichess.org/training/AbsRU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ABTO7', 'Rapid', 'lobaskov', 1740, 'marty108', 1797, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,c3,Bg4,Be2,Nf6,d4,exd4,cxd4,Bxf3,dxc5,Bxe2,Qxe2,Nd4,Qd3,dxc5,Bg5,O-O,e5,h6,Bh4,Re8,exf6', 'Ne2+,Qxe2,Rxe2', 'https://lichess.org/training/ABTO7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('abUfE', 'Blitz', 'kdue', 1709, 'Holger99', 1586, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,h3,O-O,e3,h6,Bh4,Ne4,Bxe7,Qxe7,Nxe4,dxe4,Qc2,f5,Ne2,b6,Nc3,Bb7,Rd1,c5,d5,exd5,Nxd5,Qf7,b3,Nc6,a3,Rad8,Be2,Ne7,O-O,Nxd5,cxd5,Bxd5,Rxd5,Rxd5,Bc4,Rfd8,g3,Kh7,Kg2,Qc7,Bxd5,Rxd5,b4,c4,Rc1,b5,a4,a6,a5,Qd6,g4,Qxb4,gxf5,Qe7,Rg1,Rxf5,Kf1,Qe5,Ke2,Qh2,Rf1,Qg2,Qc3,Rd5,Qc2,Qf3+,Ke1,c3,Rg1,Rd2,Rxg7+,Kxg7,Qxc3+,Kg6,Qxd2,Qxh3,Qd6+,Kg5,Qf4+,Kh5,Qxe4,Qg4,Qe8+,Qg6,Qe5+,Qg5,Qd6,Qg6,Qh2+,Kg5,f4+,Kf5,Qh3+,Kf6,Qh4+,Kf7,Qd8,Qg1+,Kd2,Qf2+,Kd3,Qf1+,Ke4,Qb1+,Ke5,Qb2+,Kf5,Qc2+,e4,Qc5+,e5,Qc2+,Kg4,Qg6+,Kf3,Qf5,Qc7+,Kg6,Qd6+,Kg7,Qxa6,Qd3+,Kg4,Qg6+,Kf3,Qd3+,Kf2,Qd4+,Kg3,Qe3+,Kg4,Qe2+,Kf5,Qd3+,Ke6', 'Qg6+,Kd5,Qxa6', 'https://lichess.org/training/abUfE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aBUIv', 'Blitz', 'CrushKing', 2159, 'Toro2003', 2483, 'e4,Nc6,Bb5,d6,f4,a6,Bxc6+,bxc6,Nf3,Nf6,Nc3,g6,O-O,Bg7,Kh1,O-O,d3,Rb8,f5,Nd7,Qe1,Ne5,Rb1,Nxf3,Rxf3,d5,Ne2,c5,Qh4,dxe4,Rh3,h5,Ng3,exd3,Nxh5,dxc2', 'Nf6+,Bxf6,Qh7#', 'https://lichess.org/training/aBUIv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AbV4z', 'Rapid', 'washingtonsiagian', 2190, 'FarisMate', 2187, 'd4,e6,e4,c5,c3,cxd4,cxd4,Qc7,Nc3,a6,Nf3,Nf6,Bd3,Bb4,Bd2,Ng4,Rc1,Nc6,Ne2,Bxd2+,Qxd2,Qd8,h3,Nf6,O-O,h5,a3,b5,b4,Bb7,Rfd1,Qb8,Bb1,Ne7,Qe3,Ng4,Qg5,Nf5,exf5,Bxf3,gxf3', 'Qh2+,Kf1,Qxf2#', 'https://lichess.org/training/AbV4z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ABVkI', 'Rapid', 'rosoha', 1793, 'Oleg71011', 1897, 'd4,d5,Bf4,c5,e3,c4,Nf3,Bf5,c3,Nc6,Nh4,Bd7,h3,e5,Nf3,exf4,exf4,Bd6,Qd2,Nf6,Be2,Ne4,Qe3,Qf6,Ne5,Qe7,O-O,O-O,Nd2,Nxd2,Qxd2,Rfe8,Rae1,f6,Nxd7,Qxd7,Bg4,f5,Bf3,Rxe1,Bxd5+,Kh8,Rxe1,Bxf4,Qe2,Bd2,Qxd2,Qxd5,Qe2,Qf7,d5,Na5,d6,g6', 'Qe5+,Kg8,Qxa5', 'https://lichess.org/training/ABVkI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('abvSq', 'Rapid', 'baremarasrapid', 1759, 'o-Mido-o', 1821, 'e4,e6,d4,d5,exd5,exd5,Nc3,Nf6,Nf3,Bb4,Bd2,Bg4,Be2,Qe7,O-O,O-O,h3,Bxc3,Bxc3,Bh5,Qd3,Nc6,Rfe1,Qd6,Nh2,Bxe2,Rxe2,Rfe8,Rae1,Re7,Rxe7,Nxe7,Nf3,Ng6,Ne5,Ne4,a3,Re8,Bb4,Nxe5,Bxd6', 'Nxd3,cxd3,Nxd6', 'https://lichess.org/training/abvSq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Abvz2', 'Classical', 'moeinmubarak', 1655, 'Goldkobra', 1607, 'e4,e5,Qh5,Nc6,Bb5,g6,Qf3,Nd4,Qd3,Bg7,Bc4,Nf6,c3,Nc6,Nf3,O-O,b4,d6,a4,a5,b5,Ne7,Ba3,Ned5,exd5', 'e4,Qf1,exf3', 'https://lichess.org/training/Abvz2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Abzcd', 'Blitz', 'PinMeDeep', 1550, 'limitlesspawn', 1510, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Be6,Nf3,Bb4,Bg5,Nc6,Bxd8,Rxd8,e3,a6,Qb3,Nge7,Bd3,O-O,O-O,Bd6,Qc2,f5,Ng5,Bc8,a3,Rf6,g3,Rg6,Nf3,Rh6,Nh4,f4,exf4,Nxd4,Qd2,c5,Qd1,Rf8,Ng2,Ndf5,Bxf5,Nxf5,Qxd5+,Kh8,Ne4,Nd4,Nxd6,Be6,Qxc5', 'Nf3+,Kh1,Rxh2#', 'https://lichess.org/training/Abzcd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ac0F5', 'Blitz', 'FM Eloist', 2409, 'ArseneLupin1', 2425, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Ngf6,Qe2,e6,d4,cxd4,Nxd4,Be7,c4,Rc8,b3,Qa5,Bb2,a6,Nc3,Qh5,f3,g5,Rad1,Rg8,g4,Qh6,Nd5,Ne5,Nxe7,Kxe7,c5,Rxc5,Ba3,Nfd7,Bxc5,Nxc5,b4,Ncd7,Rc1,Qg7,Rfd1,h5,Qd2,hxg4,Nf5+,exf5,Qxd6+,Kd8,Rc7,f6,Rxb7,Ke8,Qe6+,Kf8,Rb8+,Nxb8', 'Rd8#', 'https://lichess.org/training/Ac0F5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ac2Qw', 'Rapid', 'INDrajitnand', 1658, 'kseniiakorzh6559', 1658, 'e4,c5,Na3,d6,Qf3,Nf6,d3,Nc6,c3,Bg4,Qg3,e6,Bg5,Bh5,Nh3,Be7,Nf4,Bg6,Nxg6,hxg6,Bxf6,Bxf6,O-O-O,a6,Be2,b5,Nc2,b4,cxb4,Nxb4,Nxb4,cxb4,f4,Rc8+,Kb1,Bd4,e5,Qb6,exd6,Qxd6,Rc1,Ke7,Qf3,Rxc1+,Rxc1,Rxh2,Qb7+,Kf6,Bf3,Qxf4,Qxb4,Qe3,Be4,Qf2,Qb8,Kg5,a3,f5,Bf3,Qe3,Qxh2,Qxd3+,Ka1', 'Qxa3+,Kb1,Qxb2#', 'https://lichess.org/training/ac2Qw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ac3jk', 'Rapid', 'skype2018', 1671, 'magasumovanton', 1730, 'e4,c6,Nf3,d5,exd5,cxd5,c3,Bg4,d4,e6,Bb5+,Nc6,Qa4,Ne7,Ne5,Bf5,Nxc6,Nxc6,Bxc6+,bxc6,Qxc6+,Ke7,O-O,Rc8,Qa4,Qd7,Qb4+,Ke8,Qb3,h5,Bf4,h4,Nd2,f6,Rfe1,g5,Be3,Bd6,c4,Kf8,cxd5,e5,Nc4,Rxc4,Qxc4,e4,Qc6,g4,Qxd7,Bxd7,Bd2,f5,g3,hxg3,fxg3,Bb5,Rac1,Kf7,a3,a6,Bb4,Bb8,Rc5,Rd8,Rec1,e3,b3,e2,a4,Bd3,Kf2,Re8,Be1,f4,gxf4,Re4,f5,Bxh2,R5c3,Rf4+,Ke3', 'Rf3+,Kd2,Bf4#', 'https://lichess.org/training/Ac3jk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ac7pu', 'Blitz', 'mayar009', 1855, 'surong2019', 1923, 'e4,e5,Nf3,Nf6,Nxe5,Bc5,d4,Bb4+,c3,Be7,Bd3,h6,O-O,O-O,h3,d5,Nd2,dxe4,Nxe4,Nxe4,Bxe4,Bf6,Bf4,Be6,Bxb7,Bd5,Bxa8,Bxa8,Qb3,Nd7,Rfe1,Nxe5,dxe5,Bg5,Bg3,Bh4,e6,fxe6,Qxe6+,Kh8,Be5,Bxf2+,Kh1,Bxe1', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/ac7pu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AC7S8', 'Rapid', 'KingSmegma', 2137, 'tommybxf7', 1953, 'd4,Nf6,Bg5,c5,Bxf6,gxf6,d5,d6,e4,a6,c4,Nd7,Nc3,Bg7,Bd3,O-O,Nge2,Ne5,O-O,Nxd3,Qxd3,Kh8,f4,Bg4,Ng3,f5,exf5,Bd4+,Kh1,f6,h3,Rg8,hxg4', 'Rxg4,Nge2,Rh4+,Qh3,Rxh3+', 'https://lichess.org/training/AC7S8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aC9ES', 'Rapid', 'Morti34', 2007, 'LIS25', 1989, 'e4,c6,d3,d5,exd5,cxd5,d4,Nc6,Nf3,Bg4,Be2,e6,O-O,Rc8,c3,Nf6,Bg5,Be7,Nbd2,O-O,Rc1,h6,Bh4,Qb6,b3,Rc7,Ne5,Bxe2,Qxe2,Rfc8,Nxc6,Rxc6,Nb1,Bf8,f3,Be7,Bf2,Qa5,Qd3,Qxa2,Nd2,Qa5,c4,dxc4,bxc4,Bb4,Nb3,Qa6,Nc5,Bxc5,Ra1,Ba3,Rfc1,Rxc4,Rxc4,Qxc4,Qxa3,a6,Be3,Nd5,Rc1,Nxe3,Rxc4,Nxc4,Qb3,b5,Kf2,Kf8,g4,Ke7,h4,Kd6,g5,hxg5,hxg5,Rc6,Qb4+,Kd5,Qe7,f6,gxf6,gxf6,Qxf6,Rd6,Ke2,Rb6,Kd3,Rd6,Qg5+,Kc6,Qc5+,Kb7,Ke4,Nd2+,Ke5', 'Rd5+,Qxd5+,exd5', 'https://lichess.org/training/aC9ES');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('acA7B', 'Blitz', 'pellyalsek', 1699, 'scenicsen', 1629, 'e4,c5,Nf3,d6,c3,e5,d4,cxd4,cxd4,exd4,Nxd4,d5,Nc3,dxe4,Nxe4,Nc6,Nxc6,Qxd1+,Kxd1,bxc6,Bf4,Bf5,Nd6+', 'Bxd6,Bxd6,Rd8,Ke1,Rxd6', 'https://lichess.org/training/acA7B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AcB9u', 'Rapid', 'husni_sanad5', 1640, 'Radek-M', 1646, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nxc6,bxc6,Bc4,Bc5,O-O,O-O,Bg5,Be7,Re1,Qb6,Na4,Qb4,b3,h6,Bd2,Qd6,h3,Ne8,Be3,Qg6,Be2,Nd6,Bc5,Re8,Nc3,Nxe4,Bd3,d5,Bxe4,dxe4,Bxe7,Rxe7', 'Qd8+,Kh7,Qxe7,Bxh3,g3', 'https://lichess.org/training/AcB9u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Acbs8', 'Rapid', 'Ti22', 2012, 'orior', 2071, 'e4,e5,Bc4,Nf6,d3,h6,Nf3,Nc6,a4,Bc5,c3,a6,b4,Ba7,Nbd2,d6,O-O,O-O,Re1,Ne7,d4,Ng6,g3,Bg4,Nf1,exd4,cxd4,Bxf3,Qxf3,Bxd4,Ra2,Ne5,Qd1,Bc3,Bd2,Bxd2,Nxd2,Nxc4,Nxc4,Re8,Rae2,Nd7,f4,Re6,Rd2,Qe8,Qc2,Nb6,Nxb6,cxb6,Qc7,Rxe4,Rxe4,Qxe4,Qxd6,Rc8,Qe5,Rc1+,Kf2,Qh1', 'Rd8+,Kh7,Qf5+,g6,Qxf7#', 'https://lichess.org/training/Acbs8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aCcXR', 'Rapid', 'altaeb18', 1934, 'ismkm', 1919, 'e4,e5,Nf3,Nc6,d4,d6,Bb5,exd4,Nxd4,Bd7,Nxc6,bxc6,Bc4,Nf6,Bg5,Be7,O-O,O-O,Nc3,h6,Bh4,Bg4,f3,Be6,Bd3,Nh5,Bxe7,Qxe7,f4,Nf6,f5,Bd7,Qf3,Rab8,b3,Rfe8,Ne2,c5,c4,Qe5,Nf4,a5,Rad1,a4,Nh5,axb3,Nxf6+,Qxf6,axb3,Rxb3,Kh1,Ra8,e5,dxe5,Qxa8+,Kh7,Bc2,Bc6,Qa2,Rc3,Bd3,e4,Be2,e3,Rd3,Rxd3,Bxd3,Qg5,Qe2,Qh4,Rg1,Qh3,Bc2,f6,Bd1,Qxf5,Qg4,Qd3,h4,f5,Qe2,Qe4,Qf3', 'Qxh4+,Qh3,Qxh3#', 'https://lichess.org/training/aCcXR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AcdI7', 'Rapid', 'Lvinicios7777', 1937, 'joaomanoel53', 2082, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,Re1,b5,Bb3,O-O,c3,d5,exd5,Nxd5,Nxe5,Nxe5,Rxe5,c6,d4,Bd6,Re1,Qh4,g3,Qh3,Be3,Bg4,Qd3,Rae8,Qf1,Qh5,Nd2,Re6,Bxd5,cxd5,f3,Bh3,Qf2,Rfe8,Nf1,Qg6,f4,Bxf1', 'f5,Qf6,fxe6', 'https://lichess.org/training/AcdI7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AcELj', 'Rapid', 'bernhard84', 1636, 'isidorotegi', 2113, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nf6,Nc3,Nc6,Bb5,Bd7,O-O,e6,h3,Be7,Bf4,Rc8,a3,a6,Bxc6,Bxc6,Ne5,O-O,Nxc6,Rxc6,Bg5,h6,Bxf6,Bxf6,Ne2,Qb6,c3,Rfc8,Rb1,Qc7,f4,g6,g3,b5,g4,Bg7,h4,a5,h5,b4,Qc2,bxc3,bxc3,Qa7,Qd3,f5,hxg6,fxg4,f5,Qe7,Ng3', 'Rxc3,Qxc3,Rxc3,Rb8+,Bf8', 'https://lichess.org/training/AcELj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('acEYa', 'Blitz', 'JlOCOCb', 2256, 'WGM Klavdia_Nik', 2266, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,Nc3,axb5,e4,b4,Nb5,d6,Bf4,Nfd7,Nf3,g6,e5,dxe5', 'Nxe5,Nxe5,Bxe5', 'https://lichess.org/training/acEYa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ACGH7', 'Rapid', 'MarcosValentino', 2103, 'AlfrediG', 1790, 'd4,b6,Nf3,Bb7,g3,h6,Bg2,Na6,O-O,Rb8,c4,d6,Nc3,e6,e4,Nf6,e5,dxe5,Nxe5,Bxg2,Qa4+,c6,Kxg2,Nb4,Nxc6,Nxc6,Qxc6+,Qd7,Qxd7+,Nxd7,d5,e5,Ne4,f5,Nc3,Bd6,Nb5,Bc5,Nc7+,Kf7,Ne6,Bd6,Be3,g5,a3,Rhg8,b4,f4,Bd2,Rbc8,Rac1,Rg6,g4,Rf6,f3,Kg6,Rh1,h5,h4,gxh4,Rxh4,Rh8,Kf2,Be7,Rg1,Rxe6,dxe6,Bxh4+,Ke2,Nf6,gxh5+,Kxh5,Bc3,Re8,Rh1,Rxe6,Be1,e4,Bxh4,exf3+,Kxf3,Kg6,Kxf4,Re4+,Kf3,Rxc4,Be1,Kf5,Bd2,Rc2,Ke2,Ne4,Rh5+,Kg4,Rd5', 'Nc3+,Ke3,Nxd5+', 'https://lichess.org/training/ACGH7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('acHe2', 'Blitz', 'budwiserfou69', 1882, 'ssskarlat', 1917, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,d5,exd5,Nxd5,O-O,O-O,Nb3,Nce7,Bd3,c6,Bc2,Bg4,Qd3,Ng6,Ne5,Be6,Nc5,Nb4,Nxe6,fxe6,Qc4,Nxc2,Qxc2,Qxd4,Nxg6,hxg6,Rad1,Qf6,Rd7,Rad8,Rxb7,Rd4,Qxc6', 'Qxf2+,Rxf2,Rd1+,Rf1,Rdxf1#', 'https://lichess.org/training/acHe2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aChGl', 'Classical', 'Farshad51', 1813, 'andreiciur', 1654, 'e4,e5,Nf3,Nc6,Bc4,Bc5,a3,Nf6,Nc3,d6,d3,O-O,Na4,Bxf2+,Kxf2,Ng4+,Kg1,a6,h3,Nf6,Bg5,b5,Bd5,Bb7,Nc3,h6,Bh4,g5,Bf2,Rb8,h4,g4,Nh2,h5,Be3,Nxd5,Nxd5,Qxh4,Nf3,Qg3,Ng5,h4,Ne7+,Nxe7,Qe2,d5,Rf1,f6,Bf2,Qf4,Bxh4,Qxf1+,Qxf1,fxg5,Qe2,gxh4,Qxg4+,Kf7,Rxh4,Ke8,Qh5+,Kd7,Qxe5,dxe4,Rh7,Rbe8,dxe4,Kc8', 'Rxe7,Rxe7,Qxe7', 'https://lichess.org/training/aChGl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AcHIh', 'Rapid', 'pits2012', 1806, 'Sandipan_INDIA', 1784, 'e3,d5,Nc3,Bf5,g4,Bg6,Bg2,e6,d4,Bb4,a3,Bxc3+,bxc3,Nf6,h4,h6,h5,Bh7,a4,Ne4,Qd3,Nxf2,Qb5+,Nd7,Kxf2,O-O,Qe2,Qg5,e4,Qf6+,Ke1,dxe4,Bxe4,Bxe4,Qxe4,Qe7,g5,f5,Qg2,e5,gxh6,exd4+,Kd1,dxc3,hxg7,Rf7,h6,Nf6,Bg5,Rd8+,Kc1', 'Qe1#', 'https://lichess.org/training/AcHIh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('acHLP', 'Blitz', 'DSS4', 2146, 'brutal_999', 2217, 'd4,Nc6,Bf4,d6,e3,Bd7,Nf3,f6,c3,e5,dxe5,dxe5,Bg3,Bd6,Bc4,Nge7,O-O,Nf5,Qd5,Qe7,b4,Nxg3,hxg3,O-O-O,a4,h5,a5,h4,Nxh4,Rxh4,gxh4,e4,b5,Ne5,b6,c6,bxa7,cxd5,a8=Q+,Kc7,Qa7,dxc4,a6,Bc6,axb7,Bxb7,Qa5+,Kc8,Na3,Nc6,Qf5+,Qd7,Qxe4,g5,Nxc4,Bc7,Rfb1,gxh4,Rxb7', 'Qd1+,Rxd1,Rxd1#', 'https://lichess.org/training/acHLP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AcHQH', 'Rapid', 'LevonArutyunyan', 1763, 'Libelloy', 1777, 'e4,e6,d4,d5,Nc3,Bb4,a3,Bxc3+,bxc3,Nf6,exd5,Nxd5,Qf3,O-O,Nh3,c5,c4,Nf6,dxc5,Qa5+,Bd2,Qxc5,Bd3', 'Qe5+,Qe3,Qxa1+', 'https://lichess.org/training/AcHQH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aChUQ', 'Classical', 'dimyar72', 1827, 'Don0816821572', 1860, 'e4,e5,Nf3,d6,h3,Be6,Bb5+,c6,Ba4,b5,Bb3,Bxb3,axb3,Nf6,d3,Be7,Nc3,O-O,O-O,Qc7,Be3,d5,exd5,Nxd5,Nxd5,cxd5,Qc1,Nc6,c3,Bf6,b4,Be7,d4,e4,Nd2,Qd7,Nb3,Qc7,Nc5,a5,Bf4,Bd6,Bxd6,Qxd6,bxa5,Nxa5,Nb7', 'Nxb7,Rxa8,Rxa8', 'https://lichess.org/training/aChUQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aCIs8', 'Blitz', 'FM ChSalas', 2509, 'totaltimepass', 2235, 'Nf3,Nf6,d4,d5,c4,c6,Nc3,e6,e3,a6,Qc2,c5,cxd5,exd5,dxc5,Bxc5,Be2,Be6,O-O,Nbd7,Rd1,O-O,Bd2,Rc8,Rac1,Qe7,Qb1,b5,a3,Nb6,Na2,Nc4,Bb4,Bxb4,Nxb4,Qb7,Nd4,Ne4,Bd3,Nf6,Nbc2,h6,b3,Nd6,Qb2,Nfe4,Bxe4,Nxe4,Ne1,b4,axb4,Qxb4,Nd3,Qb6,b4,a5,bxa5,Qxa5,Rxc8,Rxc8,Rc1,Rxc1+,Qxc1,Qc3,Qxc3,Nxc3,Nb2,Ne4,f3,Nd6,Kf2,Kf8,Ke2,Ke7,Kd3,h5,h4,g6,Kc3,f6,Kb4,Nb7,Nd3,Kd6,Nxe6,Kxe6,Nc5+,Nxc5,Kxc5,Ke5,g4,f5,gxh5', 'gxh5,Kc6,d4,f4+,Ke4,exd4,Kxd4,Kd6,Ke4', 'https://lichess.org/training/aCIs8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('acjC6', 'Classical', 'JrMcgregorC', 1878, 'LittleBrainiac', 1706, 'e4,c5,Nc3,d6,Bc4,Nf6,f4,Nc6,Nf3,a6,a4,Bd7,O-O,Na5,Bxf7+,Kxf7,Ng5+,Ke8,e5,h6,Nge4,Nxe4', 'Qh5+,g6,Qxg6#', 'https://lichess.org/training/acjC6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aCkIr', 'Rapid', 'kamahs1994', 1868, 'Zabel2', 1862, 'e4,d6,Nf3,Nf6,Nc3,g6,Bc4,Bg7,a4,b6,d3,Ba6,Ba2,O-O,O-O,Nc6,Nd5,Nxd5,exd5,Ne5,Rb1,Rb8,Be3,Bb7,Qd2,Ng4,h3,Nxe3,fxe3,Qd7,e4,e6,dxe6,fxe6,Nh2,d5,exd5,exd5,c3,c5,Qg5,Qd6,Ng4,Rbe8,Rxf8+,Rxf8,Nh6+,Kh8,Ng4,Rf5,Qd2,h5,Ne3,Re5,Rf1,d4', 'Nc4,Qd5,Nxe5', 'https://lichess.org/training/aCkIr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ACKkP', 'Blitz', 'Jan-Meyer', 2229, 'Baryshnikov1974', 2342, 'e4,c5,Nf3,Nc6,c3,d6,d4,cxd4,cxd4,Bg4,Nc3,Nf6,Be2,g6,O-O,Bg7,h3,Bxf3,Bxf3,O-O,Be3,a6,Qd2,Rc8,Ne2,Re8,Bh6,Bh8,Rac1,Qb6,b3,Qb4,Qe3,Qa5,a4,Qb6,Rc4,Na5,Rxc8,Rxc8,Rb1,Rc2,Nf4,Qc7,e5,Rc3,Qe2,dxe5,dxe5,Rc2,Qe3,Ne8,Bd5,Qxe5,Qb6,Qc7', 'Bxf7+,Kxf7,Qe6#', 'https://lichess.org/training/ACKkP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Aclav', 'Rapid', 'gh1864', 1691, 'YATHARTH011212', 1755, 'd4,d5,c4,c6,Nc3,Nf6,e3,Bf5,cxd5,cxd5,Qb3,Qd7,Bb5,Nc6,Nf3,e6,Ne5,Qc7,Qa4,Rc8,Bd2,a6,Bxc6+,bxc6,Qxa6,Bd6,Nf3,O-O,O-O,Ne4,Nxe4,dxe4,Nh4,Bxh2+,Kh1,Bg6,Nxg6,fxg6,Qe2,Rf5,Qg4,Rh5,Rfc1,Rb8,Qxe6+,Kf8,b3,Qe7,Qxe7+,Kxe7,Rxc6,Rf8,Bb4+', 'Bd6+,Kg1,Bxb4', 'https://lichess.org/training/Aclav');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aCLgB', 'Blitz', 'Booomerang', 2603, 'IM Sasageyo', 2522, 'd4,Nf6,Nf3,g6,Bf4,Bg7,h3,O-O,e3,d6,Be2,c5,c3,Qb6,Qb3,Be6,dxc5,Qxb3,axb3,dxc5,Nbd2,Nc6,O-O,Nd5,Bh2,Rfd8,Rfd1,b6,Ng5,Bc8,Nc4,h6,Bf3,hxg5,Rxd5,Rxd5,Bxd5,Bb7,Bf3,Rd8,Bg3,f5,Bxc6,Bxc6,Rxa7,b5,Ne5,Rd1+,Kh2,Bxe5,Bxe5,Kf7,Rc7,Bd5,Rxc5,Rd2,Bd4,Be4,Kg3,Rxb2,Rxb5,Rb1,f3,Bd3,Ra5,Rb2,Ra1,Rxb3,Rd1,Bc4,Rd2,Rb1,Kf2,f4,exf4,gxf4,g3,fxg3+,Kxg3,Rf1,f4,Bd5,Rd3,Rg1+,Kf2,Rg2+,Ke1,Ke6,Re3+,Kd6,Bb6,e6,Bd4,Kc6,Re2,Rg3,Rh2,Kb5,h4,Kc4,h5,gxh5,Rxh5,Kd3,Kf2,Rg2+,Kf1,Ra2,Rh3+,Ke4,Re3+,Kxf4,Ke1,Bc4,Re5,Ra1+,Kd2,Ra2+,Kc1,Bd5,Re1,Rh2', 'Be5+,Kg5,Bxh2', 'https://lichess.org/training/aCLgB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aClgS', 'Rapid', 'viktor65', 1855, 'Bloon', 1677, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Bd7,Bg5,Be7,Bxe7,Ngxe7,Bxc6,Nxc6,d5,Ne7,c4,c6,a4,O-O,b4,cxd5,cxd5,b5,a5,a6,O-O,Ng6,Nbd2,f5,Rc1,f4,Rc3,Nh4,Qc2,Nxf3+,Nxf3,Bg4,Rc1,Qf6,h3,Bxf3,Rxf3,Rac8,Qb2,Qg5,Rc6,Qg6,Rxa6,Qxe4,Rxd6', 'Qe1+,Kh2,Rc1,Qxc1,Qxc1', 'https://lichess.org/training/aClgS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aclUn', 'Rapid', 'Kopylov-77728', 1752, 'bankirskix', 1721, 'e4,Nc6,a3,e6,Bc4,Nf6,Nc3,Bc5,Ba2,a6,d3,h6,Nf3,O-O,Bd2,d6,Qc1,Kh7,h4,Ng4,Be3,Bxe3,fxe3,e5,Qd2,Ne7,Qe2,Ng6,O-O-O,Bd7,Rdf1,Nf6,Ng5+,Kg8,Nf3,Bg4,Qf2,Nh5,Nh2,Be6,Nf3,Bxa2,Nxa2,Nf6,h5,Ne7,g3,Ng4,Qe2,Qd7,Nh2,Nxh2,Rxh2,f6,g4,Rf7,Nc3,Raf8,Rhf2,c6,Qd2,Kh7,Rg1,Ng8,Ne2,Ne7,Nc3,d5,exd5,Nxd5,Ne4,f5,gxf5,Rxf5,Rxf5,Qxf5,Qg2,Rf7,Qg6+,Qxg6', 'hxg6+,Kg8,gxf7+', 'https://lichess.org/training/aclUn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aCm4G', 'Classical', 'RAM_777', 1807, 'Eldarshor', 1842, 'Nf3,Nc6,d4,d5,e3,a6,Be2,g6,b3,Bg7,Bb2,Nf6,Nbd2,O-O,O-O,Re8,c4,e5,dxe5,Ng4,cxd5,Ncxe5,e4', 'Nxf3+,Bxf3,Bxb2', 'https://lichess.org/training/aCm4G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ACNDG', 'Rapid', 'rovas13', 1850, 'MirekVeverka', 1815, 'e4,c6,Qf3,d5,e5,f6,d4,fxe5,dxe5,e6,h4,Bc5,Bd3,Ne7,Bg5,Nd7,Qh5+,g6', 'Bxg6+,Nxg6,Bxd8', 'https://lichess.org/training/ACNDG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aco5h', 'Rapid', 'C_Whaley_BRR', 2292, 'EGO360', 2401, 'd4,a6,c4,b5,e4,e6,cxb5,axb5,Bxb5,Bb7,Nc3,Bb4,Bd3,f5,Qh5+,g6,Qe2,Nf6,f3,fxe4,fxe4,Bxc3+,bxc3,Nxe4,Nf3,Nxc3,Qe5,O-O,Bh6,Rf7,Ng5,Nc6,Qc5,Na4,Qb5,Rf4,Qxb7,Rb8,Qa6,Nb2,Qa3,Rxd4,Bc2,Nb4,Qxb2', 'Nd3+,Bxd3,Rxb2', 'https://lichess.org/training/aco5h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ACP0L', 'Rapid', 'nikitazadvernyak', 1772, 'Eziz_AZE', 1782, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,a6,Ba4,b5,Bb3,Bc5,d3,Nd4,Nxe5,Nxb3,axb3,O-O,h4,Qe7,Nf3,b4,Ne2,d6,h5,Ng4,d4,Bb6,h6,g6,Qd3,Rd8,Bg5,f6,Bh4,Bb7,d5,Nxh6,Bxf6,Qxf6,Rxh6,Qxb2,Rd1,Qg7,Rh4,c6,dxc6,Bxc6,Qc4+,d5,Qxc6,dxe4,Rxd8+,Rxd8,Rxe4', 'Qa1+,Nc1,Qxc1+,Ke2,Qd1#', 'https://lichess.org/training/ACP0L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('acP3L', 'Rapid', 'IamSam', 1822, 'M700700', 1822, 'e4,g6,d4,Bg7,Nf3,d6,Bf4,Bg4,Be2,Nc6,O-O,Bxf3,Bxf3,Bxd4,c3,Bb6,Nd2,e5,Be3,f5,Bxb6,axb6,exf5,gxf5,Bh5+,Kd7,Qf3,Qf6,Qd3,Nge7,Be2,Rhg8,Kh1,Rg5,Nf3,Rg6,b4,e4,Qe3,exf3,Bxf3,Rag8,b5,f4,Qd3,Na5,Be4,Rg5,Rg1,h5,h3,h4,Rae1,Rc5,c4,Rxc4,Bxb7,Rd4,Qf3,Nxb7,Qxb7,Nd5', 'Qc6+,Kd8,Qa8+', 'https://lichess.org/training/acP3L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Acq3W', 'Classical', 'Shaq44', 1619, 'lozy_kingston', 1615, 'e4,e6,Nf3,d6,c3,Bd7,Bc4,Nc6,O-O,e5,d4,exd4,cxd4,Be7,Re1,Bg4,h3,Bxf3,Qxf3,f6,d5,Ne5,Qe2,c6,Bf4,Nxc4,Qxc4,Rc8,Nc3,c5,Nb5,a6,Nc3,Qd7,Rac1,g5,Bg3,Nh6,Qe2,O-O,b3,Rfe8,Na4,Qd8,h4,Nf7,hxg5,fxg5,Qf3,Bf6,b4,Be5,Bxe5,Nxe5,Qf5,Nd3,e5,Nxc1,Rxc1,Rxe5,Qh3,Rxd5,Qf3,Re5,bxc5,dxc5,Qxb7,Ra8,Nxc5,Rc8,Qb3+,Kf8,Qb4,Qd6,Ne6+,Rxe6,Rxc8+,Ke7,Qb7+,Kf6,Qb2+,Kf7,g3,Qd5,Rc7+,Kf8,Qg7+,Ke8,Qf7+,Kd8,Ra7', 'Re1+,Kh2,Rh1#', 'https://lichess.org/training/Acq3W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('acR6c', 'Rapid', 'zoen', 1928, 'Mathonsi', 1843, 'c4,e5,Qc2,Nf6,e3,Be7,Bd3,d6,Nf3,Nc6,a3,O-O,Ng5,h6,Ne4,Nxe4,Bxe4,f5,Bd5+,Kh8,b4,Bf6,Bb2,Ne7,O-O,Nxd5,cxd5,Bg5,f4,exf4,exf4,Bf6,Rf3,Bxb2,Qxb2,Qf6,Nc3,Qd4+,Kh1,Bd7,Re1,Rae8,Qc1,c6,dxc6,Bxc6,Rf2,Rf6,b5', 'Qxf2,Rxe8+,Bxe8', 'https://lichess.org/training/acR6c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ACRPo', 'Rapid', 'KingBlaze1', 1843, 'imakitty', 1982, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Bd3,Bxd3,Qxd3,c5,c3,Nc6,Na3,cxd4,cxd4,Bxa3,bxa3,Nge7,Bg5,Qa5+,Nd2,Nf5,Be3,O-O,O-O,f6,exf6,gxf6,Nf3,Nd6,Bf4,Nc4,Qb3,b6,Rac1,Rac8,h3,Rfe8,Rc3,e5,dxe5,fxe5,Bd2,e4', 'Rxc4,dxc4,Qxc4+', 'https://lichess.org/training/ACRPo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ACt7l', 'Rapid', 'v_ir-33', 1645, 'Thinkerru', 1664, 'e4,e5,Nf3,d6,Bc4,Be7,Nc3,f5,d3,Nf6,Ng5,d5,exd5,Nxd5,Bxd5,Bxg5,h4,Bf6,h5,h6,Be3,c6,Bb3,Bd7,Qf3,Na6,a3,Qa5,O-O-O,e4,dxe4,Bxc3,bxc3,Qxc3,exf5,O-O-O,Qg4', 'Qa1+,Kd2,Bxf5+', 'https://lichess.org/training/ACt7l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aCUyd', 'Rapid', 'ronanronan', 1954, 'samirzanaty', 2068, 'e4,c5,Nf3,Nc6,d4,e6,c4,cxd4,Nxd4,Nxd4,Qxd4,Nf6,Nc3,Bb4,Bd2,b6,Bd3,Bb7,a3,Bc5,Qe5,O-O,Bg5,Bxf2+,Ke2,Bc5,Bxf6,Qxf6,Qxf6,gxf6,Rhf1,Kg7,Rf4,Rg8,Raf1,Be7,R1f3,Kh8,Rh3,Rxg2+,Kf1,Rag8,Rfh4,R8g7,Rxh7+,Rxh7,Rxh7+,Kxh7,Kxg2,Kg6,h4,f5,Kg3,Kh5,exf5,Bxh4+,Kf4,Bg5+,Ke5,f6+,Kd6,e5,Kxd7,Kg4,Ke6,Kf3,Nd5,e4,Bf1,e3,Nxf6,e2,Bxe2+,Kxe2,b4,Kf3,Nh7,Bc1,f6,Bxa3,f7,Bxb4,Nf6,a5,Nd5,Bxd5+', 'cxd5,Bf8,d6', 'https://lichess.org/training/aCUyd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('acvFi', 'Rapid', 'szczurek095', 1744, 'DJJM', 1799, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Be7,O-O,d6,Re1,Be6,Bb5,Bd7,c3,dxc3,Nxc3,Nf6,Bc4,Ne5,Nxe5,dxe5,Qf3,Bg4,Qg3,O-O,h3,Be6,Bxe6,fxe6,Bh6,Rf7,Rad1,Qe8,Rd2,Nh5,Qxe5,Rf6,Bg5,Bd6,Qd4,e5,Qc4+,Rf7,Red1,h6,Be3,a6,Nd5,b5,Qb3,Nf4,Bxf4,exf4,Rc1,Qxe4,Kf1,f3,gxf3,Rxf3', 'Nf6+,Kh8,Nxe4', 'https://lichess.org/training/acvFi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Acvrz', 'Rapid', 'shirov24', 1874, 'marc4u', 1826, 'e4,c5,Nf3,d6,c3,d5,e5,d4,cxd4,cxd4,Bc4,h6,O-O,a6,d3,Nc6,h3,Bf5,Bf4,e6,a3,Bc5,b4,Ba7,Nbd2,b5,Ba2,Bxd3,Re1,Bg6,Nb3,Nge7,Rc1,O-O,Nc5,a5,Nb7,Qb6,Nd6,axb4,axb4,Nxb4,Qd2,Nd3,Red1,Nxc1,Qxc1,Bb8,Bb3,Bxd6,exd6,Nf5,Be5,Nxd6,Bxd4,Qa6,Ne5,Bh5,Re1,Nf5,Bb2,Ne7,Qf4,Ng6,Qe3,Nxe5', 'Qxe5,f6,Qxh5', 'https://lichess.org/training/Acvrz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aCYsR', 'Blitz', 'CM IECS12', 2370, 'H0M3R0', 2302, 'd4,Nf6,Bf4,d6,e3,g6,Nd2,Bg7,Ngf3,O-O,h3,Nc6,Be2,Nd7,Bh2,e5,c3,f5,O-O,Qe7,dxe5,dxe5,Qb3+,Kh8,Nc4,Qc5,Rad1,e4,Nd4,Nde5,Nxc6,bxc6,Nxe5,Bxe5,Qc4,Qxc4', 'Bxe5+,Kg8,Bxc4+', 'https://lichess.org/training/aCYsR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Acz3w', 'Blitz', 'foxgen', 1838, 'SanekTom', 1811, 'd4,c6,Bf4,d6,Nf3,h6,h4,g6,e3,Bg7,Bc4,Nd7,Nbd2,Ngf6,c3,Nf8,Qc2,Ne6,Bh2,Qa5,e4,b5,Bb3,Qb6,e5,Ng4,exd6,Nxh2,Rxh2,exd6,d5,Nc5,O-O-O,Bf5,Re1+,Kf8,Qd1,Nd3+,Kb1,Nxf2+,Qc2,Bxc2+,Kxc2,Ng4,Rhh1,Ne3+,Kc1,Nxd5,Rhf1,Re8,Ne4,Re6,Bc2,h5,Nfg5,Bh6,Rxf7+,Kg8,Ref1,Rxe4,Bxe4,Qe3+,Kb1,Bxg5', 'Rf8+,Kh7,R1f7+,Kh6,Rxh8#', 'https://lichess.org/training/Acz3w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('acZzy', 'Rapid', 'ynikitin', 2119, 'Valery37', 2148, 'e4,Nf6,e5,Nd5,Nf3,d6,exd6,exd6,d4,Be7,Be2,O-O,O-O,Nc6,c4,Nb6,b3,Bf6,Bb2,Bg4,h3,Bh5,Nbd2,Re8,Re1,h6,Qc2,Bg6,Bd3,Nb4,Bxg6,Nxc2,Bxc2,Qd7,Rad1,Rxe1+,Nxe1,Re8,Ne4,Bd8,Nf3,f5,Ng3,g6,d5,Qf7,h4,Bf6,Bd4,Bxd4,Nxd4,Nd7,h5,g5,Bxf5,Re5', 'Be6,Rxe6,dxe6', 'https://lichess.org/training/acZzy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ad0Mi', 'Rapid', 'Denis1980', 2059, 'madyan05', 2166, 'd4,d5,Nf3,Nf6,c4,c6,Nc3,e6,Bg5,Nbd7,e3,Qa5,Bxf6,Nxf6,Bd3,Bb4,Qb3,dxc4,Bxc4,Ne4,Rc1,O-O,O-O,Bxc3,bxc3,b6,Ne5,Nd2,Qc2,Nxf1,Kxf1,Bb7,h4,Rfe8,h5,f6,Nf3,Qxh5,Qe4,Qf7,Bd3,g5,Ke2,h5,Rh1,c5,d5,exd5,Qa4,g4,Nh4,Re5,Ng6,Rg5,Nf4,d4,cxd4,cxd4,Rxh5,Rxh5,Bg6,Qe7,Bxh5,dxe3,fxe3,Qe5,Qc4+,Kg7', 'Qf7+,Kh8,Ng6#', 'https://lichess.org/training/ad0Mi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AD6ME', 'Rapid', 'andres19', 1904, 'IrSoewignyo', 1957, 'Nf3,d6,c4,Nf6,g3,e5,Nc3,Nbd7,e4,c6,Qc2,Qc7,Bg2,a5,b3,Be7,Bb2,h5,d4,Ng4,h4,Ndf6,d5,Bd7,O-O-O,b5,dxc6,Bxc6,cxb5,Bb7,Rhe1,Rc8,a4,Qb6,Re2,Nxe4,Rxe4,Bxe4,Qxe4,Nxf2,Qf5,Qe3+,Nd2,Rxc3+,Bxc3,Qxc3+,Kb1,Nxd1', 'Bc6+,Qxc6,bxc6', 'https://lichess.org/training/AD6ME');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aD7Ah', 'Rapid', 'Loriano', 1878, 'siloe2019', 1920, 'e4,e5,f4,Nf6,fxe5,Nxe4,d3,Nc5,Nf3,d6,exd6,Bxd6,Be2,O-O,O-O,Nc6,Be3,f5,Kh1,f4,Bxc5,Bxc5,c3,Be3,d4,Bg4,Nbd2,Bxf3,Bxf3,Qg5,Ne4,Qh6,a4,Ne7,Qb3+,Kh8,Qxb7,Nf5,h3,Rab8,Qxc7,Rxb2,Qc5,Rg8,Qxa7,Ng3+,Nxg3,fxg3,Qf7', 'Qxh3+,gxh3,Rh2#', 'https://lichess.org/training/aD7Ah');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aD8i6', 'Rapid', 'coachbindel', 1772, 'Nerazzurro', 1790, 'd4,d5,c4,dxc4,e3,Nf6,Bxc4,e6,a3,a6,Bd2,c5,Nf3,cxd4,Nxd4,b5,Bb3,Bb7,O-O,Bc5,Nf3,O-O,Nc3,Nbd7,Rc1,Rc8,Ba2,Qb6,b4,Bd6,Bb1,Rfd8,e4,Ng4,h3,Nge5,Nxe5,Bxe5,Qf3,Nf6,Be3,Qc7,Nd5,Qd6,Nxf6+,Bxf6,Rxc8,Rxc8,Bf4,Qd4,Rd1,Qb2,Qd3,h6,e5,Bxe5,Bxe5,Qxe5', 'Qd8+,Rxd8,Rxd8#', 'https://lichess.org/training/aD8i6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AD948', 'Rapid', 'me0', 1632, 'khosronikan', 1797, 'd4,d5,e3,e6,c4,c6,Bd2,Nf6,Qb3,Be7,Nf3,O-O,Bd3,b6,cxd5,cxd5,Qc2,Bb7,Ng5,h6,h4,hxg5,hxg5,Ne4,f3,Ng3,Bh7+,Kh8,Rh3,Bxg5', 'Bg8+,Kxg8,Qh7#', 'https://lichess.org/training/AD948');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ADauM', 'Blitz', 'doudoumaki', 1778, 'esternrodriguez', 2047, 'e4,c5,d4,cxd4,c3,Nf6,e5,Nd5,Nf3,Nc6,Bc4,Nb6,Bb3,d5,exd6,e6,cxd4,Bxd6,O-O,O-O,Nc3,a6,Be3,Nb4,a3,N4d5,Bc2,Nxe3,fxe3,Nd5,Nxd5,exd5,Qd3,g6,g3,Bf5,Qd2,Bxc2,Qxc2,Rc8,Qb3,Qc7,Qxd5,Bxg3,hxg3,Qxg3+,Kh1,Rc2,Rg1', 'Qh3+,Nh2,Rxh2#', 'https://lichess.org/training/ADauM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aDayk', 'Classical', 'Samara63', 1740, 'Azamat07QZ', 1728, 'g3,Nf6,Bg2,e5,d3,d5,Nd2,e4,dxe4,dxe4,a4,Bc5,Nb3', 'Bxf2+,Kxf2,Qxd1', 'https://lichess.org/training/aDayk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ADbkQ', 'Rapid', 'Potrahin', 2111, 'nsnu', 2101, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,e5,Ne4,b4,Bb6,Bd5,Nxc3,Qb3,O-O,Nxc3,dxc3,Qxc3,Re8,Bb2,Nxe5', 'Nxe5,d6,Bxf7+', 'https://lichess.org/training/ADbkQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('adbOM', 'Blitz', 'wozzow', 1994, 'bankai770', 2137, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,c3,Ne7,Bd3,Bg4,h3,Bh5,Be3,Nbc6,Nbd2,Qd7,O-O,O-O-O,b4,f5,b5,Na5,Qa4,b6,c4,f4,c5,fxe3,cxd6,exd2,dxe7,Qxe7,Ne5,d1=Q,Rfxd1,Bxd1,Rxd1,Qd6,Nc6,Nxc6,bxc6,Kb8,Rc1,Qe6,Ba6,Rd6,Bb7,Rf8,Rc3,Qe1+,Kh2,Qxf2', 'Qxa7+,Kxa7,Ra3+,Kb8,Ra8#', 'https://lichess.org/training/adbOM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('adchr', 'Rapid', 'patadura', 2005, 'hasanov-56', 2075, 'd4,Nf6,Bf4,e6,e3,d5,Bd3,Bd6,Ne2,Nbd7,Nd2,Bxf4,Nxf4,c5,c3,a6,Rc1,b5,O-O,O-O,h3,Bb7,Bb1,Rc8,a3,cxd4,cxd4,Nb6,Nf3,Nc4,Qe2,h6,Nd3,Ne4,Nde5,Qe7,Bxe4,dxe4,Nd2,Nxe5,dxe5,Rfd8,Nb3,Rxc1,Rxc1,Qd7,Nd4,Rc8,Rxc8+,Qxc8,Qc2,Qd7,Qc5,Bd5,b4,Kh7,Qb6,Bb7,Qd6,Qc8,Qc5,Qb8,g3,h5,Qe7,Kg8,Qc5,Bd5,Kg2,Qxe5,Qc8+,Kh7,Qxa6,Bc4,Qb7,Qd5,Qxf7,Kh6,Qf4+,Kh7,h4', 'e5,Qf5+,g6,Qg5,exd4,Qxd5,Bxd5', 'https://lichess.org/training/adchr');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 7;
-    }
-
-}
\ No newline at end of file
@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet8 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AddTT', 'Blitz', 'Jaksland', 2189, 'saidamirbaku89', 2150, 'e4,d5,exd5,Qxd5,d4,c5,dxc5,Qxd1+,Kxd1,e5,Be3,f5,f3,Nd7,b4,a5,c3,Ngf6,Bb5,Nd5,Bd2,g6,Nh3,Bg7,Re1,O-O,Ng5,axb4,cxb4,e4,fxe4,Bxa1,exd5,Nf6,d6,h6,Bc4+,Kg7,Ne6+,Bxe6,Rxe6,Ne4,Re7+,Kf6,Bxh6,Rfe8,Bg7+,Kg5,Bxa1,Rxe7,dxe7,Re8,Nd2,Rxe7,Nf3+,Kf4,Bd4,Rd7,Ke2,g5,Be3+,Kg4,h3+,Kg3,Nxg5', 'Nc3+,Kf1,Rd1#', 'https://lichess.org/training/AddTT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aDDVd', 'Rapid', 'eitansar', 1617, 'soufiane15', 1641, 'e4,e5,f4,Qe7,Nc3,Nc6,Nf3,d6,Bc4,Bg4,Nd5,Qd8,Nc3,Nd4,O-O,exf4,Ne5,Bxd1', 'Bxf7+,Ke7,Nd5#', 'https://lichess.org/training/aDDVd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ADewW', 'Blitz', 'Vicrors5', 1795, 'brainout88', 1763, 'e4,g6,d4,Bg7,Nc3,a6,Be3,e6,Qd2,Ne7,Bc4,O-O,Nf3,c6,h4,d5,Bd3,f5,e5,h5,Bh6,Nd7,Qg5,Rf7,O-O-O,Nf8,Nd2,Nh7,Qe3,b6,Bxg7,Rxg7,Nf3,Qc7,Ng5,c5,f3,c4,Be2,b5,g4,fxg4,fxg4,hxg4,Bxg4,Nf5,Qg1,Nxg5,hxg5,b4,Bxf5,exf5,Nxd5,Qa5,Nf6+,Kf7,Kb1,b3,a3,bxc2+,Kxc2,Qa4+,Kb1,Qb3,d5,Rb8,e6+,Ke7,Qc5+,Kd8,Qd6+,Bd7,Qe5,c3,Qe2,Qxa3,exd7', 'Rxb2+,Qxb2,Qxb2#', 'https://lichess.org/training/ADewW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AdeZh', 'Classical', 'SajadNorouzi', 1644, 'shiva1729', 1665, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nc3,Bd6,h3,Nf6,d3,O-O,a3,Be6,Be3,Qd7,Ng5,h6,Nxe6,Qxe6,O-O,b5,Qd2,Rad8,Ne2,c5,f4,c4,f5,Qc8,Rf3,Be7,Rg3,Nh5,Rg4,Nf6,Rxg7+,Kxg7,Bxh6+,Kh8,Qg5,Rg8,Qh4,Nh7,Qxe7,cxd3,Qxe5+', 'f6,Qf4,dxe2', 'https://lichess.org/training/AdeZh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ADFH1', 'Rapid', 'alesios', 1720, 'PoppaGambit', 1607, 'e4,e5,Nf3,d6,Bc4,Be6,Bxe6,fxe6,d3,h6,Nc3,Nf6,h3,d5,exd5,exd5,Nxe5,d4,Ng6,Rg8,Ne4,Bb4+,Bd2,Bxd2+,Nxd2,Nd5,Qe2+,Ne7,O-O,Nc6,Rfe1,Qd6,Nc4,Qxg6,b4,O-O-O,b5,Nb4,Qxe7,Nxc2,Re6,Qxd3,Ne5,Qxb5,Rc1,Rde8,Qf7,Ref8,Qe7,Qe2,Qd7+,Kb8,Re8+,Rxe8,Nc6+,bxc6,Rb1+,Ka8,Qxc7,Re7', 'Qxc6+,Rb7,Qxb7#', 'https://lichess.org/training/ADFH1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ADhX8', 'Blitz', 'Schacher100', 2315, 'misterMRo', 2041, 'Nf3,d5,e3,c5,d4,e6,c3,Nf6,Bd3,Nc6,Nbd2,c4,Bc2,Bd6,e4,e5,exd5,Nxd5,Nxc4,exd4,Nxd4,O-O,O-O,Nxd4,Qxd4,Nb4,Qd1,Nxc2,Qxc2,Bxh2+,Kxh2,Qh4+,Kg1,Qxc4,Be3,b6,b3,Qg4,f3,Qg3,Bf2,Qg5,Qc1,Qg6,Qf4,Bb7,Rfe1,Rfe8,Bd4,h5,Rxe8+,Rxe8,Rc1,Re2,Bf2,Kh7,Rd1,Qc2,Rf1,Qxa2,Qxf7,Kh6,Qxb7,Qxb3,Qc6+,Kh7,Bd4,Qc2,Rf2,Re1+,Kh2,Qc1,Kg3', 'Qg5+,Kh2,Qh4#', 'https://lichess.org/training/ADhX8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('adiak', 'Rapid', 'Dima_N', 2011, 'Ghagzee', 1826, 'e4,e5,d3,Nf6,Nc3,Be7,Be3,Nc6,Qd2,O-O,h4,d5,exd5,Nxd5,Nxd5,Qxd5,Be2,Be6,Rh2,Qb5,b3,Bb4,c3,Ba3,g4,Rad8,g5,e4,d4,Qf5,Nh3,Ne5,Nf4,Nf3+,Bxf3,exf3,h5,Qxg5,Rh1,Qa5,Nxe6,fxe6,h6,e5,hxg7,Rfe8,Qc2,e4,Kd2,c5,b4,Qb5', 'Qb3+,c4,Qxa3', 'https://lichess.org/training/adiak');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AdjvW', 'Classical', 'Natilius', 1716, 'ZaidAlfehili', 1614, 'e4,e5,Nf3,Nc6,Nc3,d6,Bb5,Bd7,d3,h6,Be3,Nf6,Bxc6,Bxc6,Ne2,Qe7,Ng3,g6,Qd2,O-O-O,Qa5,b6,Qxa7,d5,exd5,Bxd5,a3,e4,Nd4,exd3,cxd3,Bxg2,Rg1,Ng4,Rxg2,Nxe3,Qa8+,Kd7,Qc6+,Kc8,fxe3,Qxe3+,Nde2,Qxd3,Rc1,Qd2+,Kf1,Bd6,Qa8+,Kd7,Qc6+,Kc8,Ne4,Qd3,Nxd6+,Qxd6,Qxd6,Rxd6,Nf4,Rf6,Rf2,Rd8,Ng2,Rxf2+,Kxf2,Rd2+,Kf1,Rxb2,Re1,Kd7,Rd1+,Ke7,Re1+,Kd7,Kg1,Ra2,Re3,c5,Rd3+,Kc6,Nf4,c4,Re3,Kc5,Ne2,b5,Re5+,Kb6,Nd4,Ra1+,Kf2,Ra2+,Kg3,Rxa3+,Kf4,c3,Rxb5+,Ka6,h4', 'Ra4,Rd5,c2', 'https://lichess.org/training/AdjvW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('admGE', 'Rapid', 'Dr-Dang', 1686, 'naprof', 1704, 'd4,b5,e4,Bb7,f3,a6,Bf4,Nf6,e5,Nd5,Bg3,g6,Qd2,Bg7,Nc3,O-O,Nxd5,Bxd5,a3,e6,O-O-O,c6,Ne2,f5,Nf4,a5,Nxd5,cxd5,Bxb5,Qb6,a4,Nc6,Bh4,Na7,Bxd7,Rab8,Qc3,Rf7,Bb5,Nxb5,axb5,Qxb5,f4,a4,Kd2,Qxb2,Qxb2,Rxb2,Ra1,Ra7,Kc3,a3,Be1,Bf8,Kd3,Rab7,Bc3,R2b5,h3,h5,g4,hxg4,hxg4,fxg4,Rhg1,Bh6,Rxg4,Bf8,Rxg6+,Kh7,Rxe6,Rb1,Ra2,R7b2,Bxb2,axb2,Rb6,Rd1+,Kc3,b1=Q,Rxb1,Rxb1,Ra6,Bb4+,Kd3,Rf1,Ke3,Re1+,Kf2,Re4,Rf6,Rxd4,Ke3,Re4+,Kd3,Be1,e6,Bh4,Rf7+,Kg8,f5,Bd8,Rd7,Bf6,Rxd5,Rg4,Rd7,Kf8', 'Rf7+,Ke8,Rxf6', 'https://lichess.org/training/admGE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aDmJv', 'Rapid', 'MarwanAbdalla', 1857, 'mostafa_goda', 1706, 'e4,e5,Nf3,Nc6,Bb5,Bc5,Bxc6,bxc6,O-O,d6,Re1,Nf6,Nc3,O-O,d3,Re8,Bg5,d5,Bxf6,Qxf6,exd5,Bb7,Ne4,Qe7,dxc6,Bxc6,Nxc5,Qxc5,Ng5,Qd5,f3,h6,Ne4,Qd4+,Kh1,Qxb2,Qe2,Rad8,Reb1,Qd4,a3,Qd7,h4,Qf5,g4,Qf4,Rg1,h5,Qf2,Re6,gxh5,f5,Ng5,Rh6,Qxa7,Rxh5,Qxc7,Rxh4+,Kg2,Qxg5+,Kf1,Qf6,Rxg7+,Qxg7', 'Qxd8+,Kf7,Qxh4', 'https://lichess.org/training/aDmJv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aDMPd', 'Blitz', 'Daniele92', 1959, 'Kingade118', 1648, 'c4,e5,Nc3,c5,g3,Nf6,Bg2,Nc6,e3,d6,Nge2,Bg4,h3,Be6,b3,Qd7,d4,cxd4,exd4,exd4,Nxd4,Nxd4,Qxd4,Be7,Bb2,O-O,Nd5,Bxd5,Bxd5,Rfe8,O-O-O,Qf5,Bxb7,Rab8,Bc6,Rec8,Bd5,Qg6,Bf3,Nd7,Be4,Qh6+,Kb1,a5,Bf5,Rc7,Bxd7,Rxd7,h4,a4,Qg4,Rdb7,Rhe1,Bf6,Bxf6,Qxf6,Qe4', 'Rxb3+,axb3,Rxb3+,Kc2,Qb2#', 'https://lichess.org/training/aDMPd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AdngU', 'Blitz', 'Foxidomask', 1607, 'Payta', 1692, 'e4,e5,Nf3,d6,Bc4,Nf6,d4,Nxe4,dxe5,dxe5,Bxf7+,Ke7,Qxd8+,Kxd8,Nxe5,Bd6,Nc4,Be7,Nbd2,Ng5,Bh5,g6,Bf3,c6,Ne4,Nxf3+,gxf3,Be6,Ne5,Bd5,Be3,Kc7,O-O-O,Rf8,c4,Be6,Nc5,Bxc5,Bxc5,Rf5,Bd6+,Kb6,c5+,Ka5,f4,Na6,a3,Kb5,b4,Rxf4,Nxc6,Rc4+,Kb2,bxc6,Rhe1,Bf5,Re7,h5,a4+,Kxa4', 'Ra1+,Kb5,Rb7#', 'https://lichess.org/training/AdngU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AdNLI', 'Rapid', 'ajfirecracker', 1789, 'Damacles', 1783, 'e4,e5,Nc3,Nf6,f4,exf4,e5,Ng8,Nf3,d5,d4,Bb4,Bxf4,Bxc3+,bxc3,Ne7,c4,Nbc6,cxd5,Qxd5,c4', 'Qe4+,Qe2,Qxf4', 'https://lichess.org/training/AdNLI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Adnxx', 'Rapid', 'perehodok', 1791, 'Prospective', 1812, 'e4,c5,Nf3,d6,Bc4,e5,d3,Be7,c3,Nc6,a3,Nf6,h3,Be6,Nbd2,h6,b4,a6,Bxe6,fxe6,Nb3,b6,Be3,O-O,O-O,Nh5,Nxe5,Nxe5,Qxh5,Nxd3,Rad1,c4,Nd4,Qc7,Nxe6,Qb7,Nxf8,Rxf8,Qd5+,Qxd5,exd5,b5,g4,Bh4,f4,Re8,Rf3', 'Rxe3,Rxe3,Bf2+,Kf1,Bxe3', 'https://lichess.org/training/Adnxx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aDo8x', 'Classical', 'OsitoAmbrosoli', 1718, 'Vladimir11111111', 1785, 'd4,d5,c4,e6,Nf3,dxc4,Qc2,b5,a4,c6,Nc3,Bb4,Bd2,a5,axb5,Bxc3,Bxc3,cxb5,d5,Nf6,dxe6,Bxe6,e3,O-O,Be2,b4,Bxf6,Qxf6,O-O,Nc6,Bxc4,Rfc8,Bxe6,Qxe6,Qa4,Ne5,Nd4,Qg6,Qb5,Nc4,Nf5,Ra7,Rfc1,Rac7', 'Rxc4,Rxc4,Ne7+,Kh8,Nxg6+', 'https://lichess.org/training/aDo8x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aDOr1', 'Rapid', 'ttzz', 1966, 'sparc', 1884, 'e4,e5,Bc4,Nf6,d4,exd4,Nf3,Nxe4,Qxd4,Nf6,Bg5,Be7,Nc3,O-O,O-O-O,c6,Bd3,d5,Qh4,Nbd7,Rhe1,b5,Ne5,h6,Nxd7,hxg5', 'Nxf6+,Bxf6,Qh7#', 'https://lichess.org/training/aDOr1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aDpGu', 'Rapid', 'dukado', 1835, 'PIETRO2848', 2153, 'e4,d5,exd5,c6,dxc6,e5,Nf3,e4,Ne5,Bc5,Bb5,bxc6,Nxc6,Bxf2+,Kxf2,Qb6+,d4,exd3+,Be3,Qxb5,Nxb8,Qxb2,Qxd3,Rxb8,Bd4,Qb4,Bxg7,Qf4+,Qf3,Qh4+,g3,Qe7,Re1,Be6,Bxh8,Nh6,Bg7,Qc5+,Qe3', 'Ng4+,Kf3,Nxe3', 'https://lichess.org/training/aDpGu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ADQAi', 'Rapid', 'Bydak', 2096, 'sosodokbiwirsia', 2153, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Nxc6,Bxc6,Bxc6+,bxc6,O-O,Be7,Nc3,Nf6,Qf3,Nd7,Qg3,O-O,Bh6,Bf6,Rad1,Bxc3,bxc3,Qf6,Rfe1,Qxh6,Re3,Ne5,f4,Nc4,Rf3,Rae8,Rd4,d5,exd5,cxd5,Rxd5,Qb6+,Kh1,Re1+,Qxe1,Qc6,Rd4,g6,h3,Nd6,Qe2,Nf5,Re4,h5,Kh2,h4,Rc4,Qa6,Qd3,Qxa2,Rxc7,Qb1,Rf1,Qb6,Rd7,a5,c4,a4,Qa3,Qe6,Qxa4,Qe2,Rdd1', 'Ne3,Rg1,Nxd1', 'https://lichess.org/training/ADQAi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('adQUv', 'Classical', 'Spacebobby', 1702, 'sangram101', 1703, 'f4,Nf6,Nf3,g6,e3,Bg7,b3,d6,Bb2,Bg4,Be2,O-O,O-O,Nc6,Ng5,Bxe2,Qxe2,Ne4', 'Bxg7,Kxg7,Nxe4', 'https://lichess.org/training/adQUv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ADrsf', 'Classical', 'shubhamchess222', 1836, 'VooDoo12', 1756, 'c4,f5,e3,g6,Qc2,Nf6,Be2,Bg7,Nf3,O-O,d4,e6,O-O,Nc6,Nc3,a6,a3,b6,d5,Ne7,dxe6,dxe6,Rd1,Qe8,Rb1,Bb7,b4,Ne4,Nxe4,Bxe4,Bd3,Bxf3,gxf3,e5,e4,f4,Kh1,c6,Qb3,Kh8,a4,Qc8,Ba3,Qh3,Bf1,Qxf3+,Qxf3,b5,cxb5,axb5,a5,g5,Qc3,f3,Qc5,Bf6,Bb2,Ng6,Qxc6,Rac8,Qxb5,Rb8,Qa4,g4,b5,Be7,a6,Bc5,Ba3,Bxa3,Qxa3,g3,hxg3,Rf6,a7,Ra8,b6,Nf4,gxf4', 'Rh6+,Kg1,Rg8+,Bg2,Rxg2+,Kf1,Rh1#', 'https://lichess.org/training/ADrsf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aDru7', 'Rapid', 'Saddam385', 1700, 'AbdulHananJ', 1710, 'd4,e6,c4,Bb4+,Nc3,Bxc3+,bxc3,b6,e4,Bb7,d5,Qf6,Qd3,Nh6,Nf3,Qe7,Be2,Ng8,O-O,h6,Qd4,Qf6,Qe3,Na6,Ba3,g5,Rac1,g4,Nd2,h5,Rfd1,Qh6,Qg3,Qg6,dxe6,fxe6,c5,bxc5,Bxa6,Bxa6,Qxc7,Nf6,Bxc5,Be2,Re1,Bd3,Bd4,O-O,Nf1,Bxe4,Ng3,Bc6,Qf4,Nd5,Qe5,Qh7,Nxh5,Rf7,g3,Raf8,Bc5', 'Rf5,Qg7+,Qxg7,Nxg7,Kxg7', 'https://lichess.org/training/aDru7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ADsc6', 'Rapid', 'krzysiekstasilas', 1752, 'DearProfessor', 1860, 'e4,c6,f4,d5,exd5,cxd5,d4,Nf6,Nf3,g6,Nc3,Bg7,Bb5+,Nc6,Ne5,Bd7,Bxc6,bxc6,O-O,Qc7,Kh1,Bc8,Ne2,O-O,c3,Ne4,Ng3,Nxg3+,hxg3,h5,Qa4,Bf5,Qxc6', 'Bxe5,Qxc7,Bxc7', 'https://lichess.org/training/ADsc6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ADsjp', 'Rapid', 'tmano', 1921, 'ceco', 1918, 'e4,c5,c3,d6,d4,cxd4,cxd4,a6,Bc4,e6,Nc3,Be7,Nge2,Nf6,O-O,O-O,h3,Qc7,Bb3,Nc6,Bg5,b5,a3,Bb7,d5,exd5,Bxf6,Bxf6,Nxd5,Qd8,Nxf6+,Qxf6,Qc2,Rac8,Nc3,Nd4,Qd1,Nxb3,Qxb3,Rc4,Rae1,Re8,a4,Qd4,Rd1,Qc5,axb5,axb5,Nxb5', 'Rb4,Qxb4,Qxb4', 'https://lichess.org/training/ADsjp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aDsLL', 'Rapid', 'ondrejko', 1647, 'gouloum', 1659, 'f4,c5,Nf3,Nc6,g3,Nf6,Bg2,d5,d3,Bg4,O-O,e6,Nbd2,Be7,c4,d4,a3,h6,Ne5,Rc8,Qa4,Bxe2,Rf2,Bxd3,Nxd3,Ng4,Re2,O-O,Nf3,Bf6,h3,Ne3,Bxe3,dxe3,Nxc5,Nd4,Rxe3,Nxf3+,Bxf3,Bd4,Nxb7,Qc7,Re1,Bxe3+,Rxe3,Qb6,Kf2,Qxb2+,Re2,Qd4+,Kg2,Rxc4,Qa6,Rc1,h4,f6,Qxe6+,Kh8,Qd6,Qg1+,Kh3,Rfc8,Qd7', 'Qf1+,Bg2,Qxe2', 'https://lichess.org/training/aDsLL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aDtdF', 'Rapid', 'Ponch69', 1620, 'deltab2013', 1819, 'd4,d5,Nc3,c5,e4,dxe4,f3,cxd4,Nxe4,Nf6,Nxf6+,exf6,Bc4,Bc5,Qd3,O-O,Ne2,Re8,O-O,Bf5,Qxf5,b6,Kh1,Nd7,Ng3,Ne5,Bb3,a5,a4,Ng6,Ne4,Re5,Qh3,Bb4,Rd1,Rb8,Bd2,Bxd2,Rxd2,Nf4,Qh4,Ng6,Qf2,Qc7,Rxd4,Rh5,Ng3,Rh6,h3,Nf4,Nf5,Rg6,Rg1,Qe5,Ng3,Rxg3,Qxg3,Qxd4,c3', 'Qxg1+,Kxg1,Ne2+,Kf2,Nxg3', 'https://lichess.org/training/aDtdF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aDtNB', 'Rapid', 'Anand0007', 1626, 'yaszs', 1641, 'd4,Nf6,e3,c5,Nf3,cxd4,Nxd4,Nc6,Nxc6,bxc6,Bd3,e5,Qe2,d6,Ba6', 'Qa5+,Bd2,Qxa6,Qxa6,Bxa6', 'https://lichess.org/training/aDtNB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('adve2', 'Rapid', 'IvanLiba', 1710, 'leokllk', 1696, 'd4,d5,Bf4,Nf6,e3,e6,Nf3,Ne4,Ne5,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/adve2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('adWHr', 'Rapid', 'fishstone', 1973, 'Burburudur', 1906, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nc6,c3,Bg4,Bb5,e6,Qa4,Bxf3,Bxc6+,bxc6,Qxc6+,Ke7,gxf3,Rc8,Qa6,Qc7,Bg5+,f6,Be3,Kf7,Nd2,Ne7,h4,Qb6,Qxb6,axb6,a4,h5,a5,bxa5,Rxa5,Nc6,Ra6,Be7,Ke2,Rhd8,f4,Rd7,Rha1,Rb7,R1a2,Nd8,Ra7,Rcb8,Rxb7,Rxb7,Nf3,Nc6,Bc1,Rb5,Ra6,Na5,b4,Nb7,Bd2,Nd6,Ra5,Rb7,Kd3,Ne4,Be1,Bd6,Nd2,Nxd2,Bxd2,Be7,f3,f5,Be1,Bd6,Bg3,g6,Ra8,Bb8,Kc2,Ke7,Kb3,Kd7,c4,dxc4+,Kxc4,Kc6,Ra6+,Rb6,b5+,Kc7,d5,exd5+,Kxd5,Rxb5+,Ke6,Rb3,Kf6,Rxf3,Be1,Rxf4', 'Bg3,Kd7,Bxf4', 'https://lichess.org/training/adWHr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AdwK8', 'Rapid', 'barisrump', 2183, 'totachess', 2107, 'e4,c5,Nf3,Nc6,c3,Nf6,e5,Nd5,d4,e6,c4,Ndb4,d5,Nd4,Nxd4,cxd4,a3,Qa5,Bd2,exd5,cxd5,d3,Bxb4,Bxb4+,axb4,Qxa1,Bxd3,Qxb2,O-O,Qxb4,Qh5,h6,d6,Qf4,g3,Qg5,Qe2,O-O,f4,Qd8,f5,f6,e6,dxe6,fxe6,Qxd6,Qe4,Bxe6,Qh7+,Kf7,Bg6+,Ke7,Qxg7+,Rf7,Bxf7,Bxf7', 'Re1+,Kd8,Qxf7', 'https://lichess.org/training/AdwK8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ADwkA', 'Rapid', 'sauron7', 1660, 'mcscrooge', 1659, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Bb5,Bd7,O-O,Nf6,Nc3,g6,Re1,Bg7,Be3,O-O,Qd2,a6,Bd3,Rc8,Nce2,Ne5,Bh6,Nxd3,cxd3,e5,Bxg7,Kxg7,Nf3,Qb6,Rac1,Rxc1,Rxc1,Rc8,Rxc8,Bxc8,Nc3,Bg4,Ne1,Qb4,f3,Qc5+,Kf1,Be6,Nc2,Nh5,b4,Qb6,Nd5,Bxd5,exd5,Nf4,Ne3,a5,Nc4,Qxb4,Qxb4,axb4,Nxd6,Nxd3,Nxb7,Nc1', 'd6,b3,axb3', 'https://lichess.org/training/ADwkA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('adyOV', 'Rapid', 'elmatadoors', 1935, 'raviarun', 1890, 'd4,Nf6,Nf3,d5,g3,c6,Bg2,Bf5,c4,h6,Nc3,e6,O-O,Nbd7,Re1,Ne4,Ne5,Nxe5,dxe5,Nxc3,bxc3,Qa5,Qb3,b6,e4,dxe4,Rd1,Bc5,Be3,O-O,Rd7,Bxe3,fxe3,Qxe5,Rad1,Qc5,Kf2,b5,cxb5,cxb5,R1d4,Rfc8,Bxe4,Bxe4,Rxe4,Qxc3', 'Rd8+,Rxd8,Qxc3', 'https://lichess.org/training/adyOV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ae48A', 'Rapid', 'WatchTheFork', 1742, 'stanislawchess69', 1702, 'd4,d5,Bf4,Nc6,e3,e6,c3,Nf6,Bd3,Bd6,Bg3,Bxg3,hxg3,Qd6,Nd2,Bd7,g4,O-O-O,g5,Ng8,Qf3,e5,e4,dxe4,Nxe4,Qd5,Ne2,exd4,c4,Qa5+,Kf1,Be6,a3,Bxc4,Bxc4,d3,N2c3,Ne5,Qf5+,Kb8,f4', 'Nxc4,Qxa5,Nxa5', 'https://lichess.org/training/ae48A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ae5FM', 'Rapid', 'KOLLYWOOD', 1933, 'kiliyo', 1885, 'd4,c6,e3,d5,Bd3,Nf6,f4,Bg4,Nf3,e6,O-O,Bd6,c3,O-O,Nbd2,Bh5,Qc2,Bg6,Ne5,Bxd3,Nxd3,Nbd7,Rf3,Ne4,Rh3,f5,Ne5,Bxe5,fxe5,c5,Nf3,c4,Bd2,b5,Be1,h6,Nd2,a5,Nxe4,fxe4,Bh4,Qe8,Rf1,Qg6,Rg3,Rxf1+,Kxf1,Qf5+,Kg1,Rf8,Qe2,g5,Rg4,Kh7,Bxg5,hxg5,Rg3,Kg6,h4,Rg8', 'Rxg5+,Qxg5,hxg5', 'https://lichess.org/training/ae5FM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ae9k0', 'Rapid', 'tommygagarin', 2010, 'billybones11', 2033, 'd4,Nf6,c4,e6,Nf3,b6,Nc3,Bb7,Bg5,Be7,e3,O-O,Be2,h6,Bh4,Ne4,Bxe7,Qxe7,Qc2,f5,Rg1,Na6,a3,Rac8,g4,Nxc3,Qxc3,fxg4,Ne5,Qf6,Nxg4,Qh4,O-O-O,c5,d5,exd5,cxd5,Nb4,Kb1,Nxd5,Bc4,Qh5,Bxd5+,Bxd5,Rxd5,Qxd5', 'Nxh6+,Kh8,Qxg7#', 'https://lichess.org/training/Ae9k0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aeaQ8', 'Rapid', 'bacilii51', 1621, 'barathcj', 1611, 'd4,d5,Nf3,Nf6,e3,c5,c3,Nc6,Bd3,Bg4,O-O,e6,h3,Bh5,Re1,cxd4,cxd4,Bd6,Nbd2,Qc7,e4,dxe4,Nxe4,Nxe4,Rxe4,O-O,Rh4,Bg6,Bxg6,fxg6,Ng5,Bh2+,Kh1,Rxf2,Be3,Rf5,Nxe6,Qg3,Rg4', 'Qxe3,Kxh2,Qxe6', 'https://lichess.org/training/aeaQ8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aEata', 'Rapid', 'jonkoca', 1768, 'gohan78', 1758, 'e4,b6,Be2,Bb7,Bf3,e5,d4,exd4,Qxd4,d6,Ne2,Nc6,Qd1,Nf6,O-O,g6,Nbc3,Bg7,Bg5,O-O,Nd5,h6,e5,Nxe5,Nxf6+,Bxf6,Bxf6', 'Nxf3+,gxf3,Qxf6', 'https://lichess.org/training/aEata');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AeaWI', 'Rapid', 'lutekhin', 1710, 'Kamampla', 1641, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,O-O,Nf6,e5,c6,Bc4,d5,exf6,dxc4,fxg7,Bxg7,Qe2+,Be6,Re1,O-O,c3,c5,d3,Re8,f3,cxd3,Qf2,dxc3,Nxc3,Bd4,Be3,Bxe3,Rxe3,c4,f4,Rc8,Qg3+,Kf8,Rd1,Bf5,Rxe8+,Kxe8,Qg8+,Ke7,Re1+,Be6,Qxd8+,Rxd8,f5,d2,Re2,d1=Q+,Nxd1,Rxd1+,Kf2,Rd6,g4,Kd7,fxe6+,Rxe6,h4,Rxe2+,Kxe2,Ke6,Kd2,b5,Kc3,a5,a4,bxa4,Kxc4,Ke5,Kb5,Kf4,Kxa4', 'Kxg4,Kxa5,f5', 'https://lichess.org/training/AeaWI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AEb8N', 'Blitz', 'FM BillyBigMan', 2756, 'Chesssknock', 2646, 'Nf3,c6,g3,d5,Bg2,Bf5,O-O,e6,d3,Nf6,Nc3,h6,Qe1,Bh7,e4,Be7,e5,Nfd7,h4,c5,Bf4,Nc6,h5,Rc8,Qe2,a6,Nd1,Nd4,Nxd4,cxd4,Rc1,Qa5,a3,Qb6,Bd2,Qc7,f4,a5,Nf2,a4,Bb4,Bxb4,axb4,Qb6,c3,dxc3,bxc3,d4,cxd4,O-O,Qb2,Qb5,Be4,Bxe4,dxe4,Ra8,Rc3,Nb6,Rfc1,a3,Qb3,a2,Ra1,Ra4,Rc5,Qxb4,Qxb4,Rxb4,Rxa2,Rxd4,Rb5,Nc4,Rxb7,Nd2,Kg2,Nxe4,Nxe4,Rxe4,Kf3,Rc4,Raa7,Rcc8,Kg4,Rb8,f5,exf5+,Kxf5,Rxb7,Rxb7,Rd8,g4,Rc8,Rd7,Re8,Ra7,Rb8,Rc7,Ra8,Rd7,Rb8,Re7,Rc8,e6,Rc5+,Kf4,Rc4+,Kg3,Rc3+,Kh4,fxe6,Rxe6,Kf7,Rg6,Rc1,Ra6,Rh1+,Kg3,Rg1+,Kf3,Rf1+,Kg3,Rg1+,Kf3,Rf1+,Kg3,Rb1,Ra7+,Kg8,Ra8+,Kh7,Ra3,Rb2,Rf3,Rb5,Kf4,Rb4+,Kg3,Rb5,Rf4,Rb6,Kh4,Rb7,Rf5,Rb4,Rf3,Ra4,Rg3,Ra1,g5,hxg5+,Kxg5,Ra5+,Kh4,Ra4+,Rg4,Ra1,Kg5,Rf1,Rf4,Rg1+,Kf5,Rc1,Kg5,Rc5+,Kg4,Kh6,Rf5', 'Rxf5,Kxf5,Kxh5', 'https://lichess.org/training/AEb8N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AeC5J', 'Blitz', 'nasergolpayegan', 1936, 'ExtDev666', 1988, 'e4,c5,Nf3,e6,Nc3,a6,d4,cxd4,Qxd4,Qc7,Bd3,Nc6,Qe3,d6,Ng5,Nf6,O-O,Be7,f4,O-O,f5,h6,Nh3,e5,Qg3,Kh7,Qh4,b5,Ng5+,Kg8,Nh3,b4,Ne2,Rd8,Bxh6,gxh6,Qxh6,Nh7,f6,Bf8,Qh5,Qb6+,Kh1,Qe3,Rf3,Qh6,Rg3+,Kh8,Qf3,Qxf6,Rf1,Qxf3,Rfxf3,Be6,Ng5,Nxg5,Rxg5,Be7,Rh5+,Kg7,Ng3,Bg4,Nf5+,Kg6', 'Rh6+,Kg5,h4#', 'https://lichess.org/training/AeC5J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aeccS', 'Classical', 'assertive_pawn', 1670, 'hatasever', 1671, 'c4,e6,Nc3,g6,Nf3,Bg7,g3,Nf6,Bg2,d5,O-O,d4,Nxd4,Qxd4,e3,Qxc4,d3,Qc5,d4,Qe7,Bd2,Nc6,Bc1,h5,e4,h4,Bf4,hxg3,Bxg3,Nd7,Nb5,Kf8,Nxc7,Bxd4,Nxa8,Nc5,Nc7,e5,Nd5,Qg5,Kh1,Bh3,f4,Bxg2+,Kxg2,exf4,Nxf4,Nxe4,Qd3,Nxg3', 'Ne6+,Kg8,Nxg5', 'https://lichess.org/training/aeccS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aED5y', 'Rapid', 'Predrag_Janackovic', 1922, 'PapoKarla', 1960, 'd4,d5,c3,Bf5,Bf4,e6,Nf3,Bd6,e3,Bxf4,exf4,Nf6,g3,Nbd7,Bg2,Nb6,O-O,Be4,Nbd2,Qd6,Re1,Bxf3,Bxf3,O-O-O,Qe2,h5,Qe5,Qd7,Nb3,Nc4,Qe2,b6,Rab1,h4,Nd2,Nxd2,Qxd2,hxg3,fxg3,Rdg8,Re2,Nh7,Rg2,g5,fxg5,Nxg5,Rf1,f5,Kh1,Ne4,Bxe4,dxe4,Qe3,Qd6,Rff2,Rh7,a3,c5,dxc5,Qxc5,Qf4,Rg4,Qc1,Rxg3,Qf4,Rxg2,Rxg2,Qc7,Rg8+,Kb7,Qf2,e3,Qg2+,Qc6', 'Rb8+,Kxb8,Qxc6', 'https://lichess.org/training/aED5y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aEE6L', 'Blitz', 'Adisak', 1903, 'Qba87', 2228, 'f4,d5,Nf3,c5,e3,Nc6,Bb5,a6,Bxc6+,bxc6,b3,Nf6,Bb2,e6,O-O,Be7,Ne5,Qc7,d3,a5,g4,a4,Nd2,Nd7,bxa4,f6,Nxd7,Bxd7,g5,Rxa4,gxf6,gxf6,Nb3,e5,fxe5,fxe5', 'Qh5+,Kd8,Bxe5,Rg8+,Kh1', 'https://lichess.org/training/aEE6L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AEEDM', 'Classical', 'Mergen7', 1835, 'jc4545', 1896, 'e4,Nc6,d4,d5,Nc3,dxe4,d5,Ne5,Bf4,Ng6,Bg3,Nf6,Bb5+,Bd7,Qe2,e5,dxe6,fxe6,Bxd7+,Qxd7,Nxe4,Be7,Nf3,Qc6,Nxf6+,Bxf6,O-O-O,O-O,Ne5,Nxe5,Bxe5,Bg5+,Kb1,Rad8,g3,Rd5,f4,Bf6,Rxd5,exd5,Re1,Re8,Qf3,Qb5,Qc3,c5,Bxf6,Rxe1+,Qxe1,gxf6,a3,c4,Qb4,Qxb4,axb4,a6,Kc1,Kf7,Kd2,Ke6,Ke3,Kd6,Kd4,Kc6,g4,b6,h4,a5,bxa5,bxa5,g5,fxg5,hxg5,Kd6,f5,a4,g6,hxg6,fxg6,Ke6,g7,Kf7,Kxd5', 'c3,bxc3,a3,g8=Q+,Kxg8', 'https://lichess.org/training/AEEDM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aeEvH', 'Rapid', 'Chuckandester', 1605, 'heeltydspeeltyd', 1674, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Bd2,c6,Bd3,Bg4,Nge2,e6,Ne4,Qc7,Nxf6+,gxf6,f3,Bh5,Nf4,Bg6,Nxg6,hxg6,g3,Bd6,f4,g5,Qe2,gxf4,gxf4,Bxf4,Bxf4,Qxf4,c3,Qh4+,Kd2,Nd7,Rag1,O-O-O,Kc2,Rdg8,Rxg8+,Rxg8,Rf1,Qh3,Rf2,f5,Rf3,Qg2,Rf2,Qh3,Rf3,Qh5,Kb3,Nb6,Rg3,Qxe2', 'Rxg8+,Kd7,Bxe2', 'https://lichess.org/training/aeEvH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aEG82', 'Classical', 'llart', 1738, 'Sam-Waberi', 1689, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,c5,Qd5,Nf6,Qd3,h6,Nd5,Be7,Qb5+,Nd7,Qa4,O-O,c4,Ne5,Qc2,Be6,Be3,Bxd5,cxd5,Qd7,Be2,Bf6,h3,b5,f4,Bh4+,Bf2,Bxf2+,Kxf2,Ng6,f5,Ne5,g3,c4,g4,a6,Qd2,Qe7,h4,Qa7+,Qe3,Qxe3+,Kxe3,g6,f6,Nd7,g5,h5,a4,Rae8,axb5,axb5,Ra5,Ra8,Rha1,Rxa5,Rxa5,Rb8,Ra6,Nb6,Kd4,Kf8,Bf3,Ke8,e5,dxe5+,Kxe5,b4,Kd4,Kd7,Ra7+,Ke8,d6,c3,bxc3,b3,Be4,b2,Bb1,Nc8,d7+,Kd8,Ra2,Kxd7,Kd3,Ke6,Ke3,Ke5,Kf3,Nd6,Ra5+,Ke6,Ke2,Rb7,Ra4,Ke5,Rb4,Rxb4,cxb4,Kd4,Kd2,Kc4,Kc2,Kxb4,Kxb2,Kc4,Kc2,Kd4,Kd2,Ne4+,Ke2,Ke5,Ke3,Nd6,Kf3', 'Nf5,Ba2,Nxh4+,Kg3,Nf5+', 'https://lichess.org/training/aEG82');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AeGwx', 'Rapid', 'CuteTeenyCold', 2040, 'slowkeendog', 1770, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,e6,Bc4,Nge7,Nb5,Ng6,Bg5,Qb6,Be3,Bb4+,Bd2,Bc5,O-O,a6,Nc3,Qc7,Re1,b5,Bb3,O-O,Rc1,Qb6,Qe2,Bb7,Red1,Na5,Ng5,Nxb3,axb3,Rac8,Qh5,Bxf2+,Kh1,h6,b4,hxg5,Bxg5,Rc4,Rd3,Bxe4,Rh3,Bxg2+,Kxg2,Nh4+,Bxh4,Bxh4,Rxh4,Qc6+,Kf2,Rxh4,Qxh4,Qb6+,Ke2,Rc8', 'Nd5,Rxc1,Nxb6', 'https://lichess.org/training/AeGwx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AEGXO', 'Rapid', 'freilejon', 1716, 'arash-mojtabavi', 1708, 'd4,e6,c4,c5,e3,cxd4,exd4,Qb6,Nf3,Bb4+,Nc3,Nc6,c5,Qc7,Bd3,Nf6,O-O,d5,Nb5,Qd7,Nd6+,Ke7,Bg5,h6,Bf4,g5,Be5,Nxe5,Nxe5,Qe8,Bb5,Bd7,Bxd7,Nxd7,Qh5,Nxe5,dxe5,Bxc5,Nxb7,Qb5,Nxc5,Qxc5,Qf3,Qd4,Qf6+,Kd7,Qxf7+,Kc6,Rac1+,Kb6,Qc7+,Kb5,Rc5+', 'Qxc5,a4+,Kb4', 'https://lichess.org/training/AEGXO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aeH5H', 'Blitz', 'Guigozz', 1961, 'deojenez', 1984, 'd4,d5,c4,Nf6,Nc3,c6,Nf3,Bg4,e3,Bxf3,Qxf3,e6,Bd3,Be7,Bd2,Nbd7,O-O,O-O,Qh3,Re8,f3,g6,e4,dxc4,Bxc4,Bf8,Bg5,Bg7,e5,Qb6,exf6,Qxd4+,Kh1,Nxf6,Be2,Nd5,Rad1,Qb6,Ne4,Qxb2,Bc1,Qxe2,Ng5,h5,Ne4,Qxa2,g4,hxg4,Qxg4,Nc3,Rd2,Nxe4,Rxa2,Nf6,Qg2,a5,Bg5,b5,Rd2,a4,h4,Nh5,Rd7,a3,Qa2,b4,Be7,Bc3,Rc1,Reb8,Rxc3,bxc3,Rd8+,Rxd8,Bxd8,Rxd8,Qxa3,Rd3,Kg2,Rd2+,Kf1,c2,Ke1,Rh2,Qa8+,Kh7,Qxc6,Ng3,Qc7,Rh1+,Kf2,c1=Q,Qxf7+,Kh6,Qf8+,Kh5,Qh8+,Qh6,Qe5+,Kxh4', 'Qxg3+,Kh5,Qg4#', 'https://lichess.org/training/aeH5H');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AeHk3', 'Blitz', 'PKS-1988', 2349, 'Tyuan', 2281, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,c4,a6,N5a3,f5,Nc3,Nf6,Bd3,f4,f3,Be7,Nd5,O-O,Nxf6+,Rxf6,Nc2,Rg6,Kf1,Bh4,Qe2,Qg5,Bd2,Be6,Be1,Rf8,Bxh4,Qxh4,b4,Rg5,a4,Rf6,Qf2,Qh5,a5,Rfg6,Rg1,Rxg2,Rxg2,Bh3,Ne1,Nd4,Be2,Nc2,Nxc2,Rxg2,Qxg2,Bxg2+,Kxg2,Qg5+,Kf2,Qh4+,Kg2,Qg5+,Kf1,Qh4,b5,Qxh2,Ke1,Qg1+,Kd2,Qc5,Rb1,h5,Rh1,g6,Ra1,h4,bxa6,bxa6,Kd3,g5,Rb1,Kg7,Bf1,Qxa5,Rb7+,Kf6,Bh3,Qa2,Bf5,a5,Bg4,a4,Nb4,Qb3+,Ke2,Qxc4+,Kf2,a3,Nd5+,Kg6', 'Bf5+,Kh6,Rh7#', 'https://lichess.org/training/AeHk3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AehmR', 'Rapid', 'daum1769', 1849, 'mir16', 1916, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bd7,c3,a6,Ba4,b5,Bb3,Be6,d4,Bxb3,axb3,Nf6,Bg5,h6,Bh4,g5,dxe5,Nxe5,Bg3,Nxe4,Re1,Nxg3,fxg3,Bg7,Nbd2,O-O,Nxe5,Bxe5,Nf3,f6,Qd5+,Kg7,Qc6,Qb8,Rxa6,Rxa6,Qxa6,g4,Nh4,Qe8,Qa1,Qd7,Qb1,f5,Rf1,Rf6,Qd3,c5,Re1,Rf7,Rf1,b4,cxb4,cxb4,Nxf5+,Kf8,Nh4,Qa7+,Kh1,Rxf1+,Qxf1+,Kg8,Qc4+,Kh7,Qd3+,Kg8,Qd5+,Kh7,Qd1,h5,Nf5,Kg6,Qb1,Qf2,Nxd6+,Kg7,Nc4,Bd4,Qd1,Bxb2,Nxb2,Qxb2,h3,gxh3,gxh3,Qe5,g4,Qe4+,Kh2,Qf4+,Kh1,Qe4+,Kh2,Qf4+,Kh1,hxg4', 'Qxg4+,Qxg4,hxg4', 'https://lichess.org/training/AehmR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AehnN', 'Rapid', 'deerao75', 1797, 'Narg87', 1734, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bb4+,c3,Bc5,Be3,Nf6,Nd2,d5,Nxc6,bxc6,Bxc5,dxe4,Be2,Qd5,Be3,O-O,O-O,Bf5,c4,Qe5,b3,Rad8,Qc2,Bg4,Bxg4,Nxg4,g3,f5,Rae1,h5,f4', 'Nxe3,Rxe3,Qd4,Kf2,Qxd2+,Qxd2,Rxd2+', 'https://lichess.org/training/AehnN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aEi8P', 'Rapid', 'konykonyi', 1941, 'Sanamatum', 1983, 'd4,Nf6,Nf3,e6,e3,c5,c4,b6,Nc3,Bb7,Be2,d5,O-O,Be7,dxc5,bxc5,b3,Nc6,Bb2,O-O,Qc2,Qc7,h3,Rac8,Rfd1,Nb4,Qb1,Nc6,cxd5,exd5,Nxd5,Nxd5,Rxd5,Nd4,Rxd4,cxd4,Nxd4,Bf6,Bd3,h6,Bf5,Rcd8,Bg4,a6,Qf1,Rd6,Rc1,Qd8,Be2,Re8,Rc2,Be4,Rc5,Bb7,Rc2,Qa5,Ba1,Be4,Rc1,Qxa2,Bc4,Qa5,Bc3,Qd8,Bxa6,Qb6,Bc4,Red8,Ra1,Bd5,Ba5,Qb8,Bxd8,Qxd8,Bxd5,Rxd5,Ra7,Bxd4,exd4,Rxd4,Kh2', 'Qb8+,Kg1,Qxa7', 'https://lichess.org/training/aEi8P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aeipk', 'Classical', 'nijemidobro', 1795, 'JRSilva', 1824, 'd4,f5,c4,e6,a3,Nf6,e3,Be7,Nf3,O-O,Bd3,b6,O-O,Bb7,Nc3,Qe8,h3,d6,Re1,Qh5,Nh2,Nbd7,Qxh5,Nxh5,e4,fxe4,Bxe4,Bxe4,Nxe4,Nhf6,Ng5,e5,Ne6,Rfc8,Nf3,c5,dxe5,Nxe5,Nxe5,dxe5,Rxe5,Bd6,Re1,Re8,Bg5,Rac8,b3,Re7,Nf4,Rce8,Kf1,Rxe1+,Rxe1,Rxe1+,Kxe1,Bxf4,Bxf4,a6,f3,Kf7,Ke2,Ke6,Kd3,Nd7,g4,Ne5+,Bxe5,Kxe5,h4,Kf4,Ke2,g6,b4,cxb4,axb4,h5,gxh5,gxh5,c5', 'bxc5,bxc5,Ke5,Kd3,Kd5', 'https://lichess.org/training/aeipk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AeIVB', 'Rapid', 'mralexxx', 1578, 'Lazarwolf64', 1569, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Nxe4,Nxe4,d5,Bxd5,Qxd5,Qe2,Bg4,Nc3,Qd8,d3,Bb4,Bd2,Nd4', 'Qxe5+,Qe7,Qxe7+,Bxe7,Nxd4', 'https://lichess.org/training/AeIVB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aEjdb', 'Rapid', 'Dekorativ', 1786, 'HWS', 1839, 'c4,c6,Nc3,Nf6,g3,d5,e3,e5,d4,e4,cxd5,cxd5,Bb5+,Nc6,Qa4,Bd7,Qb3,Na5,Bxd7+,Qxd7,Qb5,Nc6,Nge2,a6,Qb3,Na5,Qa4,Nc6,a3,b5,Nxb5,Na7,Qxa6', 'Qxb5,Qxb5+,Nxb5', 'https://lichess.org/training/aEjdb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AEJov', 'Blitz', 'Mattiias94', 1524, 'AUroach', 1519, 'd4,d5,Bf4,Bf5,e3,e6,Nf3,c5,c3,Nd7,Bd3,Bxd3,Qxd3,Qb6,b3,c4,bxc4,Qb2,cxd5,Qxa1,dxe6,fxe6,Qe4,Be7,Qxe6,Qxb1+,Ke2,Qxh1,Ng5,Qb1', 'Qf7+,Kd8,Ne6+,Kc8,Qe8+,Bd8,Qxd8#', 'https://lichess.org/training/AEJov');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aeJXf', 'Classical', 'kons31', 1866, 'VLADIMIR007', 1797, 'e4,e5,Nf3,Nc6,c3,Nf6,d3,Bc5,Be2,d6,O-O,Bg4,Bg5,h6,Bd2,Qd7,a4,a6,b4,Bb6,Nh4,g5,Bxg4,Qxg4,Qxg4,Nxg4,Nf5,Nxf2,Rxf2,Bxf2+,Kxf2,Ne7,Ng7+,Kd7,d4,exd4,cxd4,Rhg8,Nh5,Rg6,Nc3,f5,exf5,Nxf5,d5,Rf8,Kg1,Nd4,Be3', 'Nc2,Rc1,Nxe3', 'https://lichess.org/training/aeJXf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AEK9l', 'Classical', 'blueanubis', 1796, 'runawey', 1749, 'e4,e5,Nf3,Qf6,h3,h6,Bc4,d6,d3,Nd7,a3,Nb6,Ba2,Qg6,Nh4,Qf6,g3,g5,Nf5,Bxf5,exf5,Qxf5,Nc3,a6,Ne4,Qg6,O-O,f5,Nc3,Be7,Nd5,h5,Nxc7+,Kd7,Nxa8,Nxa8,Bxg8,Rxg8,c3,f4,Qa4+,Kc7,Qa5+,Kc8,c4,Qxd3,Bd2,fxg3,f3,h4,Rae1,Qd4+,Be3,Qxb2,Bd2,Nc7,Re2,Qd4+,Be3,Qxc4', 'Rc1,Qxc1+,Bxc1', 'https://lichess.org/training/AEK9l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Aektc', 'Blitz', 'zydoz', 2013, 'Butch48', 2009, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,c6,Qc2,Nbd7,e3,Be7,Bd3,h6,Bh4,O-O,Nf3,Nh5,Bxe7,Qxe7,O-O,Nhf6,Rab1,Re8,b4,b5,a4,a6,axb5,axb5,Ne2,Bb7,Qc3,Nb6,Ne5,Nc4,Nxc4,dxc4,Bf5,Nd5,Qd2,Ra4,Ra1,Rea8,Rxa4,Rxa4,e4,Nxb4,Nc3,Ra8,e5,Nd5,Nxd5,cxd5,Rb1,Bc6,h3,Qa3,Qf4,b4,e6,b3,exf7+,Kf8,Bg6,c3,Qc7,c2,Rc1,Qxc1+,Kh2,Qg5,Qxc6,Rd8', 'Qe8+,Rxe8,fxe8=Q#', 'https://lichess.org/training/Aektc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aeKtK', 'Classical', 'chercha', 1637, 'valian0778', 1633, 'e4,e5,Nf3,Nc6,Bc4,Nd4,O-O,Nxf3+,Qxf3,Nf6,Nc3,c6,a3,d6,h3,h6,b4,a6,Bb2,b5,Bb3,Be7,Ne2,O-O,Rad1,Be6,Bxe6,fxe6,Ng3,d5,exd5,exd5,Nh5,e4,Qf5,Nxh5,Qxh5,Bf6,Bxf6,Qxf6,f3,Qd4+,Kh1,Rae8,fxe4,Rxf1+,Rxf1,Qxe4,Qf7+,Kh8,Rf4,Qe1+,Kh2,Rg8,h4,Qxd2,h5,Qxc2,Rf5,Qe4,Qd7,Qh4+,Kg1,Qe1+,Kh2,Qc3,Rf3,Qe5+,Kg1,Qxh5,Qxc6,Re8,Qc3,Rd8,Qd4,Qg6,Kh2,Qd6+,Kh1,Re8,Rf1,Re4,Qa7,d4', 'Qa8+,Re8,Qxe8+', 'https://lichess.org/training/aeKtK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AEMBB', 'Rapid', 'zhastalap084', 1767, 'jawad69', 1761, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,c5,a3,Bxc3+,Qxc3,Nc6,e3,Ne4,Qd3,Qa5+,Bd2,Qxd2+,Qxd2,Nxd2,Kxd2,cxd4,exd4,Nxd4,Kc3,e5,f4,d6,fxe5,dxe5,Re1,f6,Ne2,Nxe2+,Bxe2,O-O,Bf3,Rb8,h3,b5,c5,Bb7,Bg4,Bxg2,Rhg1,Bd5,Rd1,Rfd8', 'Rxd5,Rxd5,Be6+,Kf8,Bxd5', 'https://lichess.org/training/AEMBB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AemXF', 'Blitz', 'budsas', 1807, 'bani_reo', 1791, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,d4,Bg4,h3,Bh5,Bd2,c6,Bc4,Nbd7,O-O,e6,Nd5,Qd8,Nf4,Bg6,Nxg6,hxg6,Bg5,Be7,c3,O-O,Re1,Nd5,Qd2,Bxg5,Nxg5,N7f6,Bb3,Qd6,Ne4,Nxe4,Rxe4,Nf6,Re5,a5,Rae1,a4,Bc2,b5,Qe3,b4,Rc5,a3,b3,bxc3,Qxc3,Nd5,Qc4,Rfc8,Be4,Rab8,Bxd5,exd5,Qc2,Re8,Rc1,Rbc8,Rxc6', 'Rxc6,Qxc6,Re1+,Rxe1,Qxc6', 'https://lichess.org/training/AemXF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aenrM', 'Classical', 'Anyckin', 1694, 'georgezig', 1818, 'd4,d5,e3,c6,Bd3,b6,Nc3,g6,Nf3,Bg7,Qe2,Nf6,Bd2,a5,O-O,c5,Bb5+,Nbd7,Ne5,c4,Qf3,O-O,Nxd7,Bxd7,Bxd7,Qxd7,Rad1,b5,Bc1,b4,Nb1,Ne4,c3,e5,Nd2,Nxd2,Bxd2,e4,Qe2,Rab8,Qe1,Qd6,Rb1,b3,a3,a4,Qc1,f5,f4,exf3,Rxf3,Bh6,Qf1,Rbe8,Qf2,Re4,Re1,f4,exf4,Rxe1+,Qxe1,Bxf4,Bxf4,Rxf4,Qe8+,Kg7,Rxf4,Qxf4,Qd7+,Kh6,Qh3+,Kg7,Qd7+,Kh6,Qh3+,Kg7,Qd7+,Kf8,Qd8+,Kg7,Qd7+,Kh8,Qe8+,Kg7,Qd7+,Qf7,Qxa4,Qe6,Qa7+,Kh6,Kf1,Qe3,Qa8', 'Qc1+,Kf2,Qxb2+', 'https://lichess.org/training/aenrM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aep1S', 'Rapid', 'mzaini24', 1844, 'igrok12345678', 1718, 'd4,d5,c4,dxc4,Nc3,Nf6,e4,Nc6,Nf3,Bg4,Bxc4,Bxf3,gxf3,Nxd4,Be3,e5,Qa4+,c6,O-O-O,Qc7,Bxd4,exd4,Nd5,Nxd5,Bxd5,b5,Bxf7+,Kxf7,Qb3+,Ke8,Rxd4,Bc5,Qe6+,Be7,Rhd1,Kf8,Rd7,Qf4+,Kb1,Qf6,Qg4,h5,Qh3,g5,Rb7,Bc5,Rdd7,Ke8,Qf1,Rd8,Qd1,Rh7', 'Rxd8+,Qxd8,Qxd8+,Kxd8,Rxh7', 'https://lichess.org/training/aep1S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AEPiP', 'Rapid', 'HazamatBagatov', 2066, 'bearskin', 2043, 'e4,e6,b3,d5,Bb2,Nf6,exd5,exd5,d4,Bd6,c4,c6,Nc3,Qe7+,Be2,Bf5,Nf3,O-O,O-O,h6,Re1,Qc7,h3,Na6,Nh4,Bh7,Bd3,Bxd3,Qxd3,Rfe8,Nf5,Nb4,Qd2,Bf4,Ne3,Bxe3,Rxe3,Rxe3,fxe3,Re8,a3,Na6,Rf1,Ne4,Nxe4,Rxe4,cxd5,cxd5,Rc1,Qe7,Rc8+,Kh7,Qc2,Qg5,Bc1,Qg6,b4,Re7,b5,Qxc2,Rxc2,Nc7,a4,Ne8,Kf2,b6,Ba3,Rd7,Rc6,Nf6,Kf3,Ne4,g4,f6,h4,Nd2+,Ke2,Ne4,Bb4,Kg6,Kf3,Kf7,Kf4,Kg6,h5+,Kh7,Kf5,Ng5,Rd6,Re7,Bd2', 'Ne4,Rc6,Nxd2', 'https://lichess.org/training/AEPiP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AeQAE', 'Rapid', 'mercierc', 1561, 'Jae_H', 1588, 'd4,d5,Bf4,Nf6,h3,Nc6,e3,Bf5,Bd3,e6,Bxf5,exf5,Nf3,Bd6,Bg5,O-O,c3,Qe7,O-O,b5,Nbd2,b4,Rc1,a5,Qa4,Ra6,Qb5,Rb6,Qd3,Qe6,Rfe1,bxc3,Qxc3,Bb4,Qc2,Ne4,Re2,Qg6,h4,Qh5,g4,Qxg4+,Kf1,Qh3+,Kg1,Bd6,Bf4,Qg4+,Kf1,Bxf4,exf4,Qxf4,Ke1,Rb4,Qxc6,Rxb2,Qxc7,Qxc7,Rxc7,Rxa2,Nxe4,fxe4,Rxa2,exf3,Rxa5,f5,Rxd5,h6,Re5,g5,Rce7,gxh4,Re8,h3,Kf1,Kg7,Rxf8', 'h2,Ke1,h1=Q+,Kd2,Kxf8', 'https://lichess.org/training/AeQAE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aEUKU', 'Blitz', 'galk', 1625, 'MarcHAssassin', 1673, 'd4,e6,Nc3,g6,Bf4,Bg7,Nf3,h6,Nb5,d6,e4,a6,Nc3,e5,Bg3,exd4,Nxd4,h5,Bc4,Bg4,f3,Bd7,Qe2,c5,Nb3,Ne7,Bxd6,O-O,O-O-O,Nbc6,Bxc5,b6,Bxb6,Qxb6,Rxd7,a5,Rhd1,a4,Nd2,Nd4,Qd3,Nec6,Nd5', 'Ne2+,Kb1,Qxb2#', 'https://lichess.org/training/aEUKU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AeUvt', 'Rapid', 'saman71', 2259, 'shiva23', 2205, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,d5,dxe5,Nc3,e6,Nf3,f6,Be3,Bb4,Bxb6,axb6,dxe6,Bxc3+,bxc3,Qxd1+,Rxd1,Rxa2,g4,Bxe6,Rg1,Nc6,Nd2,O-O,Bd3,Rd8,Bb1,Ra3,Rg3,Na5,h4,Nxc4,Nxc4,Rxd1+,Kxd1,Bxc4,g5,Ra1,Kc2,fxg5,Rxg5,Ra5,Kd2,h6,Rg3,Rd5+,Kc1,Rd7,Re3,Rd5,Be4,Rc5,Bxb7,Bd5,Bxd5+,Rxd5,Kc2,Kf7,Kb3,Kf6,Kc4,c6,Rf3+,Kg6,Rg3+,Kh5,Rxg7,Kxh4,Rg6,Rc5+,Kd3,h5,Rg3,b5,Ke4,Rc4+,Kxe5,Rg4,Rd3,Kg5,Rd8,Rc4,f4+,Kg4,Rg8+,Kf3,f5,Rxc3,f6,Rc4', 'f7,Re4+,Kd6', 'https://lichess.org/training/AeUvt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aevvr', 'Rapid', 'Rodenbach', 2015, 'panji_KBPL', 2004, 'e4,c5,Nf3,e6,c3,d5,exd5,exd5,d4,Nf6,Bd3,c4,Bc2,Be7,Bf4,h6,h3,Nc6,Nbd2,O-O,O-O,b5,Re1,b4,Qe2,Re8,Ne5,Bb7,Qf3,Nxe5,Bxe5,a5,Qf5,g6,Qf4,Kh7,Nf3,Rf8,h4,Nh5,Qd2,Bxh4,Nxh4,Qxh4,cxb4,axb4,Qxb4,Bc6,Qd6,Rac8,a4,Rfd8,Qb4,Nf4,Bxf4,Qxf4,Qc3,Bd7,a5,Be6,a6,Ra8,Ra5,Qd6,a7,Rd7,Rea1,Qb6,Ra6,Qd8,Qg3,Qc7,Rxe6', 'Qxg3,fxg3,fxe6', 'https://lichess.org/training/aevvr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AEYUy', 'Rapid', 'Teo1990', 1633, 'joaquinelfisher008', 1825, 'e4,g6,d4,Bg7,c3,d6,Bd3,f5,exf5,Bxf5,Bxf5,gxf5,Qh5+,Kd7,Qxf5+,e6,Qg4,Qf6,Nf3,h5,Qg5,Nc6,Nbd2,Bh6,Qxf6,Nxf6,Nc4,Rag8,Bxh6,Rxh6,g3,b5,Ne3,Ng4,Nxg4,hxg4,Nh4,Na5,b3,c5,dxc5,dxc5,f4,gxf3,Nxf3,c4,O-O-O+,Kc6,b4,Nb7,Ne5+,Kb6,a4,a6,a5+,Ka7,Rd7,Rxg3,Nc6+,Ka8,Rf1,Rxc3+,Kb1,Rb3+,Kc1,Rh8,Rdf7,Nd6', 'Ra7#', 'https://lichess.org/training/AEYUy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aEzV1', 'Classical', 'The_Medik', 1683, 'Amirali1363', 1685, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Ng5,O-O,Nf3,d6,Bg5,Na5,Nbd2,Nxc4,Nxc4,b5,Ncd2,Bg4,h3,Bxf3,Nxf3,h6,Bh4,g5,Nxg5,Bxf2+,Kxf2,hxg5,Bxg5,Nxe4+,dxe4,Qxg5,Qg4,f6,Kg3,Rf7,h4,Qxg4+,Kxg4,Rg7+,Kf5,Kf7,g4,Rag8,Rag1', 'Rg5+,hxg5,Rxg5#', 'https://lichess.org/training/aEzV1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aF0Nu', 'Classical', 'po789654', 1670, 'Pianky', 1631, 'e4,e5,d3,Nf6,Be3,Nc6,Nd2,Be7,Ngf3,O-O,d4,exd4,Nxd4,Bc5', 'Nxc6,bxc6,Bxc5', 'https://lichess.org/training/aF0Nu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aF1ZK', 'Blitz', 'turosenspuro', 2127, 'AkluM', 2006, 'e4,c6,d4,d5,e5,Bf5,Ne2,e6,Ng3,Bg6,h4,h6,h5,Bh7,Bd3,Bxd3,Qxd3,Nd7,c3,a6,Be3,Qc7,Nd2,c5,f4,cxd4,cxd4,Bb4,O-O,Ne7,Rac1,Qd8,a3,Bxd2,Bxd2,O-O,Bb4,Re8,Bxe7,Rxe7,f5,Rc8,Rxc8,Qxc8,f6,gxf6,exf6,Re8,Nf5,exf5', 'Qg3+,Kh7,Qg7#', 'https://lichess.org/training/aF1ZK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aF3MT', 'Rapid', 'draxmapudra', 1843, 'EXVicentePNRV', 1815, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Bc5,c3,a6,d4,exd4,cxd4,Ba7,Bg5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Rg8,h4,Bxd4,e5,Bxe5,Re1,Kf8,Qb3,Rg7,Bh6,d5,Bxg7+,Kxg7,f4,dxc4,Qg3+,Kf8,fxe5,Nh5,Qf3,Qxh4,Nc3,Ng3,e6,Bxe6,Rxe6,Nd4,Qxb7,fxe6,Qxa8+,Ke7,Rd1,Qh1+,Kf2,Qh4,Qg8,Qf4+,Kg1,Nge2+,Nxe2', 'Nxe2+,Kh1,Qh4#', 'https://lichess.org/training/aF3MT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aF9ju', 'Rapid', 'Alfild4', 1965, 'motyapa', 2125, 'd4,g6,e4,Bg7,Nc3,d6,f4,Nf6,Nf3,O-O,e5,Ng4,h3,Nh6,Bd3,Bd7,O-O,Na6,Qe2,Nb4,Be4,c6,a3,Na6,Bd2,Nf5,Bxf5,Bxf5,Be3,d5,Nd1,Nc7,g4,Bd7,Nf2,Ne6,f5,Nc7,Qd3,c5,dxc5,Bb5,Qd4,Bxf1,Rxf1,e6', 'f6,Bxf6,exf6', 'https://lichess.org/training/aF9ju');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AFaiB', 'Rapid', 'jaitan', 1872, 'DAH9I_2006', 1872, 'd4,Nf6,c4,e6,Nc3,d5,cxd5,exd5,Bf4,c5,e3,Nc6,dxc5,Bxc5,Bd3,O-O,Nf3,Re8,O-O,h6,h3,d4,exd4,Nxd4,Nxd4,Qxd4,Be3,Qd6,Nb5,Qb6,Bxc5,Qxc5,Rc1,Qg5,Qf3,Rd8,Rfd1,a6,Nc3,Rb8,Ne4,Nxe4,Bxe4,Rxd1+,Rxd1,b5,Bd5,Qf5,Qg3,Rb6,Qc7,Rf6,Qd8+,Kh7,f3,Be6', 'Be4,Qxe4,fxe4', 'https://lichess.org/training/AFaiB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('afAsV', 'Classical', 'Mixypig', 1828, 'fenix322', 1617, 'e4,c6,d4,d5,Nc3,Nf6,Nf3,Bg4,exd5,cxd5,Bb5+,Nc6,h3,Bxf3,Qxf3,e6,Bg5,Be7,O-O,h6,Be3,Qd7,Ne2,O-O-O,Nf4,Kb8,Nh5,Nxh5,Qxh5,f5,Bf4+,Ka8,Qf7,g5,Bxc6,bxc6,Bd2,g4,Ba5,Rdf8,Qg7,gxh3,g3,h5,Bb4,Rfg8', 'Qxe7,Qxe7,Bxe7', 'https://lichess.org/training/afAsV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AfBxx', 'Rapid', 'mathtuition88', 1975, 'grif979v', 1916, 'e4,c5,Nf3,e6,d3,Ne7,g3,Ng6,Bg2,Be7,Nc3,a6,Be3,Qc7,Qd2,d6,h4,Nc6,O-O,h6,d4,cxd4,Nxd4,Nge5,Qe2,O-O,f4,Nxd4,Bxd4,Nc6,Be3,f5,exf5,exf5,Nd5,Qd8,Qc4,Kh8,Rae1,Be6,Qd3,Bxd5,Qxd5,Bf6,c3,Qc7,Bc1,Rad8,Re6,Rd7,Qxf5', 'Bd4+,cxd4,Rxf5,Re8+,Kh7', 'https://lichess.org/training/AfBxx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AFC1Y', 'Rapid', 'DekGam', 1665, 'Zverka', 1847, 'e4,e5,Nf3,d6,Bc4,h6,Nc3,a6,a4,Bg4,h3,Bd7,d4,exd4,Nxd4,Nc6,O-O,Ne5,Bb3,Be7,Nf5,Bxf5,exf5,Nf6,Nd5,Nxd5,Bxd5,c6,Bb3,Qd7,Qh5,Bf6,Re1,O-O-O,f4,g6,Qe2,gxf5,fxe5,Bxe5,Be3,Rde8,c3,f4,Bf2,Bxc3,Qxe8+,Rxe8,Rxe8+,Qxe8,bxc3,Qe2,Bxf7,Qb2,Re1,Qxc3,Re8+,Kd7,Re1,c5,Be8+,Kc7,Re7+,Kd8,Bh4,Qd4+,Kh1,f3', 'Re4+,Kc7,Rxd4', 'https://lichess.org/training/AFC1Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AfeyL', 'Rapid', 'RYATUGIN5', 1842, 'rubikon1', 1812, 'e4,c6,d4,d5,e5,Bf5,c3,e6,h3,c5,Qa4+,Nc6,Bb5,Qc7,Be3,c4,Nd2,Ne7,b3,cxb3,axb3,Bg6,Ngf3,Nf5,O-O,Nxe3,fxe3,Be7,c4,dxc4,bxc4,O-O,c5,a6,Be2,Rfd8,g4,Bf8,h4,h6,Kg2,Ne7,e4,Nc6,Rfb1,Be7,Rb3,Rab8,Rab1,f5,exf5,exf5,gxf5,Bxf5,Qc4+,Kh7,Bd3,Bxd3,Rxd3,Na7,h5,Nb5,Qf7,Rf8,Qg6+,Kh8,Ne4,b6,Nf6,Bxf6,exf6,Rxf6,Qg3,bxc5', 'Qxc7,Nxc7,Rxb8+', 'https://lichess.org/training/AfeyL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AFffn', 'Rapid', 'BareaGarcia', 1843, 'yoskee', 1882, 'd4,e6,Nf3,d5,Bf4,Nf6,e3,c5,c3,Nc6,Nbd2,Qb6,Qc2,Ne4,Nxe4,dxe4,Ne5,f5,Nxc6,bxc6,Be2,cxd4,exd4,c5,Bc4,cxd4,cxd4,Qxd4,Be3,Bb4+,Ke2,Qd6,Rad1,Qe5', 'Qa4+,Kf7,Qxb4', 'https://lichess.org/training/AFffn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('afFqx', 'Blitz', 'Serg1969', 1716, 'az-71', 1702, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Bd7,Nc3,Nc6,Be3,h6,Be2,Nf6,O-O,Be7,f4,O-O,Bf3,a6,Qd2,Ng4,Bxg4,Bxg4,Nxc6,bxc6,f5,Bg5,h3,Bxh3,gxh3,Bxe3+,Qxe3,d5,Kh1,d4,Qd3,dxc3,Qxd8,Raxd8,bxc3,Rd2,f6,Rxc2,fxg7,Kxg7,Rg1+,Kf6,Raf1+,Ke5,Rf5+,Kxe4,Rc5,Rxa2,Rxc6,a5,Rxh6,c5,Rc6,Kd5,Rc7,Ra3,c4+,Kxc4,Rc1+,Kb4', 'Rb7+,Ka4,Rc4#', 'https://lichess.org/training/afFqx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Afhe2', 'Blitz', 'Letsdoit1', 2540, 'NM Romanator123', 2450, 'd4,Nf6,Bg5,Ne4,Bf4,d5,Nd2,Nd7,Nxe4,dxe4,e3,e6,Bc4,Bd6,Bg3,O-O,Ne2,a6,c3,b5,Bb3,Bb7,a4,Bd5,Bxd6,cxd6,Bxd5,exd5,Nf4,Nb6,axb5,axb5,O-O,Rxa1,Qxa1,Qa8,h4,Rc8,g3,g6,Kg2,Kf8,g4,Qa4,g5,Ra8,Qe1,Qc2,Qb1,Qb3,Re1,Ra2,Re2,Na4,Qh1,Rxb2,Rxb2,Nxb2,Qh3,Qd1,h5,Nd3,Qc8+,Ke7,Qc7+,Ke8,Qc8+,Ke7', 'Nxd5#', 'https://lichess.org/training/Afhe2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AfHlD', 'Rapid', 'Raul7771', 1768, 'peonddama', 1781, 'e4,c5,f4,Nc6,Nf3,d6,Bb5,Bd7,Nc3,a6,Bxc6,Bxc6,d4,cxd4,Nxd4,Rc8,b3,e6,Bb2,Nf6,Qe2,Be7,O-O-O,O-O,Kb1,b5,g4,b4,Na4,Nxe4', 'Nxc6,Rxc6,Qxe4', 'https://lichess.org/training/AfHlD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AFhTa', 'Rapid', 'rei_em_apuros', 1826, 'martin108', 1744, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nc6,Bb5,Bd7,O-O,Nxd4,Bxd7+,Qxd7,Qxd4,Nf6,e5,dxe5,Qxe5+,Be7,Re1,Ng4,Qxg7,O-O-O,h3,Qd1,Qxg4+,Qxg4,hxg4,Bf6,c3,h5,gxh5,Rxh5,Bf4,Rdh8,f3,Be7,Be3', 'Rh1+,Kf2,Bh4+,g3,Bxg3+,Kxg3,Rxe1', 'https://lichess.org/training/AFhTa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('afipd', 'Blitz', 'mofetas', 1807, 'julve44444', 1832, 'e4,c5,Nf3,Nc6,c3,f6,d4,cxd4,cxd4,d5,exd5,Qxd5,Nc3,Qh5,Be2,Bg4,d5,Nb8,Nd4,Bxe2,Qxe2,Qxe2+,Ncxe2,Nh6,Ne6,Kd7,Bxh6,gxh6,O-O-O,h5,Nc3,Na6,Nb5,Rc8+,Kb1,Bh6,f4,Nb4,Rhe1,Nc2,Re4,Rhg8,g3,h4,Rc1,hxg3,Rxc2,Rxc2,Kxc2,g2,Nc5+,Kd8,Nxb7+,Kc8,Rxe7,g1=Q,N7d6+,Kb8', 'Rb7+,Ka8,Nc7#', 'https://lichess.org/training/afipd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AFj2B', 'Rapid', 'aaruchess', 2031, 'Didier2949', 2016, 'e4,c6,d4,d5,f3,e6,Bd3,c5,Ne2,Nc6,c4,cxd4,O-O,dxe4,fxe4,e5,Ng3,Nf6,Bg5,Be7,Bxf6,Bxf6,Nd2,O-O,Nf3,Qc7,b3,Nb4,Be2,Be6,Qd2,a5,Nh5,Qe7,Nxf6+,Qxf6,Rad1,b6,a3,Nc6,Nxd4,Qxf1+,Bxf1,Nxd4,Qe3,Rad8,Qg3,f6,b4,axb4,axb4,Rc8,Rxd4,exd4,Qd6,Bxc4,Bxc4+,Rxc4,Qxb6,Rc1+,Kf2,d3,Qe3,Rd8', 'Qxc1,d2,Qd1', 'https://lichess.org/training/AFj2B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AFJ4W', 'Rapid', 'Islamrajab', 1922, 'vandilson', 1920, 'a3,e6,e4,d5,f3,dxe4,d4,Nc6,Nc3,Nxd4,Be3,Bc5,Nxe4,Nxc2+,Qxc2,Bxe3,Rd1,Qe7,Bb5+,Kf8,Qd3,Bxg1', 'Qd8+,Qxd8,Rxd8+,Ke7,Re8#', 'https://lichess.org/training/AFJ4W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aFkzp', 'Rapid', 'anal_invader', 1699, 'UrChessBabe', 1725, 'g4,b6,Bg2,Nc6,c4,Bb7,d3,g6,Nc3,Bg7,Bd2,e5,g5,Nge7,a3,O-O,Ne4,d5,cxd5,Qxd5', 'Nf6+,Bxf6,Bxd5', 'https://lichess.org/training/aFkzp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AflCB', 'Rapid', 'kosco', 1870, 'blablub', 2176, 'e4,c6,d4,d5,e5,c5,c3,Nc6,a3,cxd4,cxd4,Qb6,Ne2,Bg4,f3,Bf5,b4,e6,Nbc3,Rc8,Na4,Qc7,Be3,Nxe5,dxe5,Bc2,Rc1,Ne7,Qd2,Bxa4,Rxc7,Rxc7,Nd4,a6,Bd3,g6,O-O,Bg7,f4,O-O,g4,Rfc8,b5,axb5,Bxb5,Bc2,Rc1,Be4,Rxc7,Rxc7,Qa5,Rc8,Qb6,Rc3,Kf2,Nc6,Nxc6,bxc6,Bxc6,Bf8,a4,Rc2+,Ke1,Rxh2,Qb8,Rh1+,Kd2,Rh2+,Ke1,Rh1+,Kf2,Rh2+,Kf1,Rh1+,Bg1,Kg7,Qb6,Ba3,a5,Bc1,f5,gxf5,gxf5,exf5,a6,d4,Qxd4,Bxc6,e6+,Kg6,e7,Bb5+,Kg2,Bc6+,Kg3', 'f4+,Kf2,Be3+', 'https://lichess.org/training/AflCB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AfLeB', 'Blitz', 'Totalunterschaetzt', 2475, 'IM Zubrrr', 2709, 'c4,f5,Nc3,Nf6,Nf3,g6,g3,Bg7,Bg2,O-O,O-O,Nc6,d3,e5,Rb1,d6,b4,Qe8,b5,Nd8,a4,Ne6,a5,Rb8,b6,axb6,axb6,c6,Ba3,Qd8,e3,Ne8,Qb3,Kh8,Rfd1,Ra8,Ne1,Bd7,Nc2,g5,d4,e4,d5,cxd5,Nxd5', 'Ba4,Qa2,Bxc2,Qxc2,Rxa3', 'https://lichess.org/training/AfLeB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AfLoy', 'Rapid', 'mehrshad101', 1836, 'masciu', 2008, 'd4,d5,Nf3,e6,Bg5,Nf6,e3,c5,c4,dxc4,Bxc4,Nc6,Nc3,cxd4,exd4,Be7,O-O,O-O,a3,a6,Qd3,b5,Bb3,Bb7,Bc2,g6,Rfe1,b4,Ne2,bxa3,bxa3,Nd5,Bh6,Re8,Ba4,Bf8,Bg5,Be7,Bxe7,Rxe7,Rac1,Rc7,Ng3,Rac8,Ne4,Nf6,Nc5,Ne7,Nxb7,Rxb7,Qxa6,Rxc1,Rxc1,Rb8,Qd3,Ra8,Bb5,Nf5,a4,Nd5,Rb1,Nf4,Qd2,Qd6,Ne5,Qxd4,Qxd4,Nxd4,g3,Nxb5,axb5,Nd5,b6,Rb8,Nd7,Rb7,h4,f5,f4,Kf7,Ne5+,Ke8,Rc1,Rxb6,Rc8+,Ke7,Rg8,Kd6,Rg7,Nf6', 'Nc4+,Kc5,Nxb6', 'https://lichess.org/training/AfLoy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aflvl', 'Rapid', 'omagodoifam', 1677, 'FelixPatric', 1890, 'e4,c5,Nf3,d6,Nc3,Nf6,d4,cxd4,Nxd4,g6,Be3,Bg7,Qd2,Nc6,O-O-O,O-O,h4,h5,f3,Bd7,Be2,a6,Nd5,Ne5,Bh6,Nxd5,Bxg7,Kxg7,exd5,Rc8,b3,Qb6,f4,Ng4,Bxg4,Bxg4,Rde1,Rc7,Rhf1,Rfc8,Rf2,Qc5,Re3,Qxd5,f5,Qc5,fxg6,fxg6,Rfe2,Bxe2', 'Ne6+,Kf7,Nxc5', 'https://lichess.org/training/aflvl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AFnuP', 'Rapid', 'Konstantin1981', 1928, 'kvs', 1791, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,a6,Bg5,Be7,Bc4,O-O,O-O,b5,Bb3,Bb7,Bxf6,Bxf6,a3,Bxd4,Qxd4,c5,Qd1,c4,Ba2,Re8,f3,Qb6+,Kh1,Nc6,Nd5,Qd8,c3,Ne7,Qd2,Nxd5,exd5,h6,Bb1,Re5,Be4,f5,Bc2,Rxd5,Qf4,g5,Qe3,Re5,Qf2,Qc7,Rfd1,Rae8,h3,Re2,Qg3,Rxc2,Rxd6,Qg7,Rad1,f4,Qg4,Bc8,Qh5,Qf7', 'Rg6+,Qxg6,Qxg6+', 'https://lichess.org/training/AFnuP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Afo5P', 'Blitz', 'keno159', 2229, 'baxbax', 2052, 'd4,Nf6,Nf3,g6,g3,Bg7,Bg2,O-O,O-O,d6,b3,c6,Bb2,e6,Nbd2,Nbd7,c4,d5,Rc1,a6,Rc2,b5,cxd5,cxd5,Re1,Bb7,b4,Rc8,Nb3,Qe7,Nc5,Nxc5,dxc5,Bc6,e3,Ne4,Bxg7,Kxg7,Ne5,Nf6,Qd4,Kg8,Bf1,Nd7,Ng4,f6,a4,e5,Qb2,h5,axb5,axb5,Nh6+,Kg7,Nf5+,gxf5,Ra1,Ra8,Ra5,Rxa5,bxa5,Ra8,Qb4,Qd8,Ra2,Qb8,a6,Qa7,Bxb5,Rb8,Ra5,Nxc5,Qb1,Bxb5,Rxb5,Rxb5,Qxb5,Nxa6,Qxd5,Qe7,Qd3,Nb4,Qxf5,Qd6,Qxh5,Kf8,Qh8+,Ke7,Qg7+,Ke6,Qg8+,Kd7,Qb3,Kc6,Qc4+,Kb6,h4,Qd1+,Kg2,Qd5+,Qxd5,Nxd5,g4,Ne7,Kf3,Kc6,g5,Kd6,gxf6,Ng6,Kg4,Ke6,Kg5,Nf8,h5,Nh7+', 'Kg6,Nxf6,h6,e4,h7,Nxh7,Kxh7,Kf5,Kh6', 'https://lichess.org/training/Afo5P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('afoo0', 'Classical', 'HWLS', 1631, 'thanhkhoeo247', 1775, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,O-O,O-O,a3,d6,d3,Bg4,h3,Bh5,Bg5,Nd4,Nd5,Nxf3+,gxf3,Qd7,Bxf6,Qxh3,Qd2,Bxf3,Ne7+,Kh8,Bxg7+,Kxg7', 'Qg5+,Kh8,Qf6#', 'https://lichess.org/training/afoo0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aFOqm', 'Rapid', 'Aleshprince', 1639, 'frank4up', 1727, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Bc4,Nf6,Nf3,Bg4,d3,e6,h3,Bh5,O-O,Be7,Re1,O-O,Bf4,c6,Qe2,b5,Bb3,Nd5,Qe4,Nxc3,bxc3,a5,a4,Bd6,Nd4,Bxf4,Qxf4,bxa4,Bxa4,Qd5,Nxc6,Nxc6,Qc7,Rfc8,Qb7,Ne5', 'Qxd5,exd5,Rxe5', 'https://lichess.org/training/aFOqm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AfpdF', 'Rapid', 'krzychu-b', 1661, 'ArdaOsman', 1780, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Nc3,O-O,d3,d6,a3,a5,Qe2,h6,h3,Re8,Be3,Bxe3,Qxe3,Be6,Bxe6,fxe6,d4,exd4,Nxd4,Nxd4,Qxd4,d5,Rad1,dxe4,Qxd8,Raxd8,Rxd8,Rxd8,Re1,Rd2,Nxe4,Nxe4,Rxe4,Rxc2,b3,Rc3,b4,Rxa3,bxa5,Rxa5,Rxe6,c5,Rb6,Ra7,f4,c4,Kf2,Kf7,Ke3,Ke7,Kd4,Kd7,Kxc4,Kc7,Rg6,Kb8,Rxg7', 'b5+,Kxb5,Rxg7', 'https://lichess.org/training/AfpdF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('afQIr', 'Rapid', 'Ortemis', 1633, 'Coco-Chanel', 1638, 'e4,e5,d4,exd4,c3,dxc3,Bc4,h6,Nf3,d6,O-O,a6,Re1,Bg4,Qd5,Be6,Qxb7,Nd7,Bxa6,Nc5,Bb5+,Ke7,Qc6,Bd7,Qd5,Bxb5,Nxc3,Nf6,Qf5,Bd7,Qf4,g5,Qe3,Ng4,Qd4,Rg8,Nd5+,Ke8,h3,Bg7,Qc4,c6,hxg4,cxd5,exd5+,Kf8,Nd4,Ra4,b4,Bxd4,Qxd4,Nb3', 'axb3,Rxa1,Qxa1', 'https://lichess.org/training/afQIr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AFqTt', 'Rapid', 'sin74', 1681, 'mrknopp', 2171, 'e4,c5,Nc3,d6,Bc4,Nc6,Nf3,Bg4,O-O,Nf6,Be2,g6,Re1,Bg7,a3,O-O,d3,a6,h3,Bd7,Bf4,Qc7,d4,cxd4,Nxd4,Nxd4,Qxd4,e5,Nd5,Nxd5,Qxd5,Bc6,Qc4,b5,Qb4,a5,Qd2,exf4,c3,Bxe4,Qxf4,Bc6,Rad1,Be5,Qg5,Qb7,f4,Bg7,Rxd6,Bxg2,Qxg2,Qc7,Red1,Rad8,Rxd8,Rxd8,Rxd8+,Qxd8,Bxb5', 'Qb6+,Qf2,Qxb5', 'https://lichess.org/training/AFqTt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aFrUf', 'Classical', 'omerlev44', 1605, 'bawlibooch', 1776, 'd4,e5,dxe5,Nc6,Nf3,Bc5,a3,Nge7,Nc3,O-O,Bg5,Nxe5,Nxe5,f6,Nd3,Bxf2+,Nxf2,fxg5,h4,d5,hxg5,Nf5,Qd3,Be6,g4,Qxg5,Rh5,Qg6,O-O-O,Ne7,Re5,Rxf2,Qxg6,Nxg6,Rxe6,Raf8,Bh3,Nf4,Re3,Rh2,Bf1,Rh1,Nxd5,Nxd5,Rxd5', 'Rfxf1+,Kd2,Rd1+,Kc3,Rxd5', 'https://lichess.org/training/aFrUf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AFS84', 'Rapid', 'FIFOU', 2484, 'nonoc', 2438, 'd4,Nf6,c4,e6,Nf3,Bb4+,Bd2,a5,g3,Ne4,Bg2,Nxd2,Nfxd2,O-O,O-O,d5,a3,Be7,Nc3,c6,e4,dxc4,Nxc4,b5,Ne5,Bb7,Qd2,Nd7,f4,Nxe5,fxe5,Bg5,Qf2,Qb6,h4,Be7,Rad1,Rad8,d5', 'Bc5,Qxc5,Qxc5+', 'https://lichess.org/training/AFS84');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aftE7', 'Blitz', 'TAL_TACTICS1970', 1894, 'Arios5', 1912, 'd4,Nf6,Nf3,g6,Bg5,Bg7,Nbd2,d6,e4,O-O,c3,c5,dxc5,dxc5,Bc4,Qc7,O-O,Nc6,Re1,Bg4,h3,Bxf3,Nxf3,Rad8,Qe2,h6,Bh4,Nh5,Qe3,g5,g4,Nf4,Bg3,Nxh3+,Kh2,Nf4,e5,Ng6,e6,Nf4,exf7+,Kh8,Nxg5,hxg5,Rh1,Bf6,Qe4,Kg7,Kg1,Rh8,Rh5,Rxh5,gxh5,Qe5,Qc2,Rh8,Bxf4,gxf4', 'Qg6+,Kf8,Qg8+,Rxg8+,fxg8=Q#', 'https://lichess.org/training/aftE7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aftJc', 'Rapid', 'AndrzejBB', 1689, 'anvesh11421', 1698, 'e3,e5,d3,d5,a3,Nf6,h3,Nc6,Ne2,h6,Nd2,a6,Ng3,Bd6,e4,d4,Be2,Be6,O-O,Qd7,Nf3,Ne7,Nh4,Ng6,Nhf5,Ne7,Nh4,Bxh3,gxh3,Qxh3,Nhf5,Nxf5,Nxf5,h5,Bf3', 'Ng4,Bxg4,hxg4', 'https://lichess.org/training/aftJc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AFtK9', 'Rapid', 'ab_lk', 1672, 'Firoujza', 1752, 'e4,c5,Nf3,Nc6,b3,e6,Bb2,Nge7,d4,cxd4,Nxd4,Nxd4,Bxd4,Nc6,Bb2,d5,exd5,Qxd5,Qxd5,exd5,c4,dxc4,Bxc4,Bb4+,Bc3,Bxc3+,Nxc3,O-O,O-O,Be6,Bxe6,fxe6,Rfe1,Rf6,Ne4,Rg6,Nc5,e5,Nxb7,Nd4,Rxe5', 'Nf3+,Kf1,Nxe5', 'https://lichess.org/training/AFtK9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('afu3a', 'Classical', 'dyrksrc', 1758, 'veaceslavraru', 1829, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,h6,Nc3,Nf6,Bb5+,c6,Bc4,d5,exd5,cxd5,Bb3,Bb4,Bd2,Qe7+,Nce2,Ne4,Bxb4,Qxb4+,c3,Qe7,O-O,O-O,Bxd5,Nd6,Re1,Qg5,Ng3', 'Qxd5,Ndf5,Qxd1', 'https://lichess.org/training/afu3a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AfuO5', 'Rapid', 'Gasparopichon', 1752, 'PepeTalavera', 1757, 'e4,g6,f4,Bg7,Nf3,Nf6,Nc3,d6,Bc4,Be6,Bxe6,fxe6,Nd4,Qd7,Qe2,Nc6,Nb3,a6,O-O,O-O-O,Nd1,h5,d4,d5,Nc5,Nxd4,Qd3,dxe4,Nxe4,Qc6,Ndf2,Nxc2,Qe2,Nxa1,Ng5,Bh6,Nf7,Bg7,Be3,Qc2,Qe1,Ng4,Ba7,Qxb2,Qxe6+,Rd7,Nxh8,Bxh8,Nxg4,hxg4,Rd1,b6,Qxd7+,Kb7,Bxb6,Qxb6+,Kh1,Nc2,Qd5+,Ka7,Qd3,Ne3,Rb1,Qc6,Qe2,Bd4,Qd2,Qe4,Rb4,Qxf4', 'Qxd4+,Qxd4,Rxd4', 'https://lichess.org/training/AfuO5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aFVdd', 'Classical', 'Emmanuel1002', 1913, 'rhymmasta', 1905, 'e4,d6,d4,Nf6,Nd2,g6,b3,Bg7,Bc4,O-O,Bb2,c6,h3,b5,Be2,a5,Ngf3,a4,c4,Qa5,O-O,Bb7,Bd3,Na6,bxa4,Nb4,Bc3,bxa4,a3,c5,dxc5,dxc5,e5,Nd7,Re1,Qb6,axb4,cxb4,Bd4,Qa5,Nb3,Qc7,Nbd2,b3,Be4,Rfb8,Bxb7,Rxb7,Re3,b2,Rb1,a3,Nb3,Rxb3,Qxb3,a2,Qxb2,axb1=Q+,Qxb1,Qxc4,Qb7,Qa4,Bc3,Rb8,Qd5,e6,Qd2,Rb1+,Kh2,Rd1,Qe2,Nb6,Re4,Qd7,Qa6,Nd5,Bb2,h6,Qe2,Ne7,Ba3,Nf5,g4,Rd3,Bb4,Rxf3,Qxf3,Nh4,Qe2,Qa7,Bc3,Qa3,Re3,Qa8,f4,Bf8,g5,Bc5,Rd3,hxg5,fxg5,Qb7,Bd4', 'Bxd4,Rxd4,Nf3+,Kg3,Nxd4', 'https://lichess.org/training/aFVdd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AfVe9', 'Blitz', 'AKLiberato', 2122, 'kleber27', 2139, 'e4,c5,Nf3,Nc6,d4,cxd4,c3,d5,e5,dxc3,Nxc3,e6,Bd3,Bb4,O-O,Bxc3,bxc3,Nge7,a4,Ng6,Re1,O-O,g3,Qc7,Ba3,Rd8,Bd6,Rxd6,exd6,Qxd6,c4,d4,h4,e5,h5,Nf8,Ng5,f5,c5,Qe7,Bc4+,Be6,Nxe6,Nxe6,Qb3,Kf7,Bxe6+,Kf6,Bd5,Qxc5,Qxb7,Ne7,Qxa8,Nxd5,Qd8+,Ne7,Rac1,Qb4,Rc6+,Kf7,Rec1,Nxc6,Rxc6,Qe1+,Kg2,Qe4+,Kh2,Qxc6,Qa5,Qf6,Qd5+,Qe6,Qb7+,Kf6,Qxa7,f4,gxf4,exf4,Qxd4+,Kg5,f3,Kh4', 'Qxf4+,Kxh5,Qg4+,Qxg4,fxg4+', 'https://lichess.org/training/AfVe9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AFW5Z', 'Rapid', 'Koneslon', 1667, 'SplashTriesChess', 1741, 'e4,c6,Nc3,d5,d3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Be3,Bd6,Qe2,O-O,O-O-O,b5,g3,a5,Bg2,Re8,Bxc6,Nxc6,Qf3,Bb7,Qh5,Ne5,f3,g6,Qh3,Nxf3,Rf1,Ng5,Bxg5,Bxh1,Bxf6,Be7,Bc3,b4,Be5,Bc5,Bf6,Qc8,Qh6,Bf8,Qf4,Ra7,Bd4,Rae7,Qf6,Re1+', 'Rxe1,Rxe1+,Kd2,Bh6+,Kxe1', 'https://lichess.org/training/AFW5Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AFWY7', 'Blitz', 'malcolmx65', 1612, 'anhedoniac666', 1719, 'e4,e6,Nf3,c5,d4,cxd4,Nxd4,a6,Nc3,Qc7,Bd3,Nf6,O-O,b5,a3,Bb7,Be3,Be7,Qd2,O-O,Bf4,d6,Rfe1,e5,Nf5,exf4,Qxf4,Nc6,Nd5,Nxd5,exd5,Ne5,Qe4,Nxd3,Nxe7+,Kh8,Re3,Ne5', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/AFWY7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aFx9h', 'Blitz', 'abnerzub', 1512, 'Ohiosurfer05', 1515, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nf5,d6,Nxg7+,Kd7,Qg4+,Ke7,Bg5+,f6,Nf5+,Kf7,Qh5+,Kf8,Bh6+,Nxh6,Qxh6+,Kf7,Qg7+,Ke6,Bc4+,Ke5,Qg3+,Kxe4,Bd3+,Kd5,c4+,Ke6,O-O,Rg8,Ng7+,Kd7,Bf5+,Ke7,Re1+,Kf7,Qh4,Rxg7,Qh5+,Kg8', 'Re8+,Qxe8,Qxe8#', 'https://lichess.org/training/aFx9h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AfyY7', 'Classical', 'Rafula', 1759, 'ziroki', 1807, 'e4,c5,Nf3,Nc6,e5,Qc7,d4,cxd4,Nxd4,Qxe5+,Ne2,d5,Nc3,d4,Bf4,Qf6', 'Nd5,Qf5,Nc7+', 'https://lichess.org/training/AfyY7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AFyzi', 'Rapid', 'pfontec', 1652, 'adnan1osman', 1690, 'd4,e6,c4,d6,e4,Ne7,Nc3,h6,Bd3,Nd7,Be3,a6,Nf3,Nb8,O-O,Bd7,Qc2,Nbc6,Rfe1,Nb4,Qe2,Nxd3,Qxd3,Ng6,Rad1,Be7,e5,O-O,exd6,Bxd6,Ne5,Nxe5', 'dxe5,Bxe5,Qxd7', 'https://lichess.org/training/AFyzi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ag187', 'Rapid', 'pear00', 1797, 'cjturner', 1849, 'e4,e6,d4,d5,Nd2,Nf6,exd5,exd5,c4,c6,cxd5,cxd5,Ngf3,Nc6,Bb5,Qc7,Ne5,Bd6,Ndf3', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/ag187');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ag3EN', 'Rapid', 'obexerch', 1762, 'range02', 1812, 'c4,e5,Nc3,c6,g3,d5,cxd5,cxd5,Bg2,Nf6,d4,e4,e3,Bb4,Qa4+,Nc6,Ne2,O-O,O-O,Bg4,f3,exf3,Bxf3,Bxf3,Rxf3,Bxc3,bxc3,Ne4,Qb3,Ng5,Rf1,Qd7,Nf4,Ne7,Ba3,Rfe8,Rae1,Ne4,Re2,Rac8,Bb2,Rb8,Qd1,Rec8,Rc2,Nf5,Qf3,Nh6,Kg2,Rc7,Nd3,Re8,Ne5,Qa4,Re2,Nxc3,Bxc3,Rxc3,Nxf7,Nxf7', 'Qxf7+,Kh8,Qf8+,Rxf8,Rxf8#', 'https://lichess.org/training/ag3EN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AG5WZ', 'Rapid', 'Takao21', 1719, 'kouesiarima', 1717, 'e4,g6,e5,Bg7,d4,d6,f4,dxe5,fxe5,c5,c3,cxd4,cxd4,Nc6,Be3,Qb6,Qd2,Qc7,Nc3,e6,Rc1,Nge7,Ne4,Nf5,Nf6+,Bxf6,exf6,Nxe3,Qxe3,O-O,Nf3,e5,dxe5,Qa5+,Rc3,Re8,Be2,Nxe5,Nxe5,Rxe5,Qd4,Bg4,O-O,Bxe2,Re1,Rae8,b4,Qb6,Rc5,Qxf6', 'Rxe2,Rxe2,Qxf6,Re1+,Kf2', 'https://lichess.org/training/AG5WZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ag9H1', 'Blitz', 'Vladzeus2000', 2245, 'NM AwareIdea', 2467, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Bb4,Nxc6,bxc6,Bd3,O-O,O-O,Re8,f3,d5,exd5,cxd5,Kh1,c6,Bg5,h6,Bh4,Bd6,Ne2,Rb8,Rb1,c5,c3,Rb6,Bc2,g5,Bg3,Ba6,Re1,Bf8,Bf2,Rbe6,Ng3,Qa5,Rxe6,Rxe6,a3,Qc7,Nf5,Bb7,Bg3,Qd7,Qd2,Nh5,Bf2,Nf4,Re1,Rxe1+,Qxe1,d4,cxd4,cxd4,Nxd4,g4,Qe5,Bd6,Qf6,gxf3,Nxf3,Qg4,Qd8+', 'Bf8,Bg3,Bxf3', 'https://lichess.org/training/Ag9H1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AG9ru', 'Blitz', 'MyxAH', 1831, 'noobblitzaddict', 1943, 'c3,d5,h3,e5,d3,Nf6,Nd2,c5,a3,Nc6,g4,Be7,Bg2,h6,Nf1,e4,dxe4,Nxe4,Qc2,Bh4,Bxe4,dxe4,Qxe4+,Be6,Nf3,Bf6,Ne3,O-O,h4,Re8,Qf4,g5,hxg5,hxg5,Qg3,Qd7,Qh3,Kf8,Qh6+,Ke7,Nf5+,Bxf5,Bxg5,Bg6,Bxf6+,Kxf6,Qf4+,Kg7,g5,Rh8', 'Qf6+,Kg8,Qxh8#', 'https://lichess.org/training/AG9ru');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('agafX', 'Blitz', 'SudarevIS', 2057, 'CM PusheenMeow', 2386, 'e4,c6,d4,d5,e5,Bf5,Nc3,e6,g4,Bg6,Nge2,h5,Nf4,Bh7,Nxh5,c5,dxc5,Nc6,Bf4,Bxc5,Nxg7+,Kf8,Nh5,Nd4,Bg2', 'Nxc2+,Kf1,Nxa1', 'https://lichess.org/training/agafX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aGazO', 'Rapid', 'Saltstraumen', 1601, 'mohamed6363', 1669, 'd4,Nf6,c4,e6,Nf3,d5,e3,Nc6,cxd5,Nxd5,Bd3,Bd6,Qc2,Ncb4,Qb3,h6,Bb5+,c6,Be2,Bd7,e4,Ne7,e5,Ned5,exd6,O-O,Bc4,a5,Bd2,a4,Qa3,b5,Bxd5', 'Nc2+,Kf1,Nxa3', 'https://lichess.org/training/aGazO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Agbp5', 'Classical', 'StandingDragonFly', 1610, 'aleshamay', 1609, 'e4,d5,exd5,Qxd5,Nc3,Qe5+,Nge2,Nc6,g3,Bg4,Bg2,Nd4,d3,Bxe2,Nxe2,Nxe2,Qxe2,Qxe2+,Kxe2,Rb8,Be3,b6,Rad1,Nf6,c4,e5,d4,exd4,Rxd4,Bc5,Bc6+,Ke7,Rf4,Bxe3,fxe3,Rbd8,g4,Rd6,Bb7,Rhd8,Kf3,g5,Rd4,Rxd4,exd4,Rxd4,Re1+,Kd7,Ke3,Rxc4,Rd1+,Ke8,b3,Rxg4,Re1,Rh4,Kf3+,Kf8,Kg3,Rg4+,Kh3,h5,Bc8,Rh4+,Kg3,Rd4,Bf5,h4+,Kh3,Rd2,a4,Kg7,Re7,Rb2,Rxc7,Rxb3+,Kg2,h3+,Kf2,Rb4,Rxa7,Ne4+,Bxe4,Rxe4,Kg3,g4,Ra6,Rb4,Kh4,Kg6,a5,f5,axb6,f4,b7+,Kf5,Ra7,f3,Kg3,Ke4', 'Ra4,Rxa4,b8=Q', 'https://lichess.org/training/Agbp5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AGCqR', 'Rapid', 'dsgs', 1726, 'reza2015', 1646, 'c4,b6,Nc3,Bb7,Nf3,g6,g3,g5,Bg2,g4,Nh4,Bxg2,Nxg2,h5,b3,Bg7,Bb2,d6,Rb1,e6,e3,Nc6,d4,Nb4,a3,Na6,Nf4,Qf6,Nb5,e5,Nd5,Qd8,dxe5,Bxe5,Bxe5,dxe5,Qc2,c6,Qf5,cxd5', 'Qxe5+,Kf8,Qxh8', 'https://lichess.org/training/AGCqR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aGdcq', 'Rapid', 'RONJHAY', 2040, 'aliavazpour1385', 2004, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,c4,c6,Nc3,Ne7,Bd3,Be6,O-O,Nd7,Re1,Qc7,cxd5,Nxd5,Nxd5,cxd5,h3,O-O-O,Bg5,Kb8,Bxd8,Qxd8,Ne5,Qg5,Kh1,Nxe5,dxe5,Bxe5,Qe2,f6,Qe3,Qh5,Be2,Qh4,Bf3,Re8,Rad1,Bxh3,g3,Bxg3,Qxe8+', 'Bc8+,Kg1,Qh2+,Kf1,Qxf2#', 'https://lichess.org/training/aGdcq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AGdlB', 'Rapid', 'MaxKY79', 1678, 'Kemp_001', 1747, 'e4,e5,Nf3,Nf6,Nc3,Nc6,d4,Bb4,d5,Ne7,Bd3,d6,Bd2,Bc5,O-O,O-O,Na4,b6,Nxc5,bxc5,c4,Rb8,Rb1,c6,b4,cxd5,cxd5,Bd7,bxc5,Rxb1,Qxb1,dxc5,Nxe5,Qc7,Nf3,Rb8,Qc2,Ng6,Qc4,Ne5,Nxe5,Qxe5,f4,Qb2,Bc3,Qa3,e5,Bb5,Qb3', 'Qxb3,axb3,Bxd3', 'https://lichess.org/training/AGdlB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AGdNl', 'Blitz', 'ImperatorToTTi', 1848, 'manju12', 1596, 'd4,d5,c4,dxc4,e4,e5,d5,b5,a4,c6,axb5,cxb5,b3,Bb4+,Bd2,Bxd2+,Qxd2,Nf6,f3,O-O,bxc4,bxc4,Bxc4,Qd6,Ne2,Nbd7,Bb5,Nb6,Bc6,Rb8,O-O,a6,Nbc3,Nc4,Qd3,Qc5+,Kh1,Nb2,Qb1,Bd7,Bxd7,Nxd7,Qa2,Ra8,Qxb2,Rfb8,Qa3,Qc4,Qa2,Qd3,Rab1,Rc8,Rbd1,Qe3,Qd2,Qb6,Ng3,a5,Ra1,Qb4,Nb1,Qb5,Qe2,Qb4,Nf5,a4,Na3,Rc3,Nc2,Qb2,Nfe3,a3,Rfb1,Rxe3,Qxe3,Qxc2,Qb3,Qc5,h3,h5,Ra2,Qd4,Rxa3,Rxa3,Qxa3,Nc5,Qc1,Nd3,Rb8+,Kh7,Qf1,h4,Rb3,Nf2+,Kh2,f5,Rb1,fxe4,fxe4,Nxe4,Rd1,Qe3,Qf5+,g6,Qf7+,Kh6,Qf8+,Kh5,Qh8+,Kg5,Qxe5+,Kh6,Qh8+,Kg5,Qd8+,Nf6,Qd6,Qe2,Ra1,Ne4,Qe5+,Kh6,Rg1,Qe3,d6', 'Qg3+,Qxg3,hxg3+,Kh1,Nf2#', 'https://lichess.org/training/AGdNl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AgDzB', 'Classical', 'VulturePZ', 1752, 'Zali-93', 1781, 'd4,d5,c4,c6,Nc3,Nf6,cxd5,cxd5,Bg5,e6,e3,a6,Bd3,Be7,f3,Nc6,a3,b5,b4,h6,Bh4,e5,Bxf6,Bxf6,e4,Be6,Rc1,Rc8,Nxd5,Bxd5,exd5,Nxd4,Rc5,Rxc5,bxc5,Qxd5,Ne2,Nxe2', 'Bxb5+,axb5,Qxd5', 'https://lichess.org/training/AgDzB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AgFT8', 'Rapid', 'brentzky', 1670, 'NegoeAbusaso', 1678, 'e4,e5,Nf3,d6,d4,Bg4,Bc4,exd4,h3,Bxf3,Qxf3,Nf6,e5,dxe5,Qxb7,Nbd7,Bb5,Bb4+,c3,dxc3', 'Bxd7+,Nxd7,Qxb4', 'https://lichess.org/training/AgFT8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aghRJ', 'Rapid', 'scabripok', 2199, 'yourimagic', 2122, 'e4,Nf6,e5,Nd5,d4,d6,Bc4,e6,Qf3,c6,Nh3,dxe5,dxe5,Nd7,Qg3,g6,O-O,Bg7,Bg5,Qb6,Bxd5,cxd5,Re1,Qxb2,Nc3,Qxc2,Nb5,O-O,Nc7,Qxc7,Rac1,Qa5,Be7,Re8,Bd6,Qxa2,Ng5,h6,Nf3,a5,h4,Kh7,Nd4,a4,Qf3,Kg8,Re2,Qxe2,Qxe2,b6,f4,Ba6,Qa2,Bc4,Qa3,b5,Nc6,Ra6,Nb4,Rxd6,exd6,Bd4+,Kh2,Bc5,Qc3,Ra8,Nd3,d4,Qd2,a3,Nxc5,Nxc5,Qxd4', 'Nb3,Qb6,Nxc1', 'https://lichess.org/training/aghRJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aGj8q', 'Rapid', 'San-j123', 1624, 'SAFRA29', 1632, 'e4,c5,f4,d6,Nf3,Nf6,e5,dxe5,fxe5,Nfd7,Bc4,e6,O-O,a6,d4,cxd4,Ng5,Nxe5,Qe2,f6,Nf3,Nxf3+,Qxf3,Bc5', 'Qh5+,Kd7,Qxc5', 'https://lichess.org/training/aGj8q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('agJOz', 'Blitz', 'SenorZapatos', 1671, 'GoianiaGO', 1531, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Bd2,Bg4,Be2,Qh5,Nf3,c6,O-O,e6,Re1,Na6,h3,Bd6,hxg4,Nxg4,Kf1', 'Qh1+,Ng1,Nh2#', 'https://lichess.org/training/agJOz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AGmky', 'Blitz', 'NM CJMabe', 2327, 'Zimtstange', 2284, 'c4,f5,Nc3,Nf6,g3,g6,Bg2,Bg7,d3,d6,e4,c6,Nge2,O-O,O-O,e5,h3,Nh5,exf5,gxf5,f4,exf4,gxf4,Qh4,Qe1,Qxe1,Rxe1,Na6,d4,Nb4,Rd1,Nf6,a3,Na6,b4,Re8,Bb2,Ne4,Rac1,Nxc3,Nxc3,Be6,d5,cxd5,cxd5,Bf7,Na4,Bxb2,Nxb2,Rac8,Kf2,Bh5,Bf3,Bxf3,Kxf3,Kf7,Nc4,Red8,Ne3,Kf6,Nc2,Nc7,Ne3,Nb5,a4,Nc3,Rd4', 'Ne2,Kxe2,Rxc1', 'https://lichess.org/training/AGmky');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Agodo', 'Rapid', 'Hamidov200812', 1984, 'ssperta', 1907, 'e4,e5,Nf3,Nf6,Nxe5,d5,exd5,Nxd5,Nf3,Bd6,Be2,O-O,O-O,Re8,d4,Nf4,Bxf4,Bxf4,c3,Bg4,Nbd2,Qf6,h3,Bh5,Re1,Nd7,Nf1,Qg6,N3h2,Bxe2,Rxe2,Nf6,Rxe8+,Rxe8,g3,Bd6,Ne3,Ne4,Ng2,Nxg3,fxg3,Qxg3,Nf1,Qxh3,Qd2,Re6,Re1,Rh6,Re8+,Bf8,Qe3', 'Qh1+,Kf2,Rf6+', 'https://lichess.org/training/Agodo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('agoFn', 'Blitz', 'D-EXTER', 1867, 'shadyknight', 1910, 'd4,c6,e4,d5,e5,c5,c3,cxd4,cxd4,Nc6,Nc3,Bf5,Bb5,e6,Nge2,Bb4,O-O,a6,Ba4,Bd3,Qxd3,Ne7,a3,Ba5,b4,Bb6,Bxc6+,Nxc6,Na4,Ba7,Nc5,Qc8,Bg5,b6,Nb3,Qb7,Rac1,O-O,Rc2,a5,b5,Ne7,Rfc1,Bb8,a4,Nf5,g4,Ne7,Nd2,Ng6,Ng3,f6,exf6,gxf6,Bh6,Re8,Nh5,Qf7,Qf3,f5,g5,Nh4,Qh3,Qxh5,Rc8,Nf3+,Nxf3,Qxh3,Rxe8+,Kf7,Ne5+,Kxe8', 'Rc8+,Ke7,Bf8#', 'https://lichess.org/training/agoFn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AGOQ3', 'Blitz', 'GM Orlando_Gloom', 2673, 'IM jmc1', 2575, 'e4,c5,g3,g6,Bg2,Bg7,d3,Nc6,f4,d6,Nf3,Nf6,O-O,O-O,h3,Rb8,g4,b5,f5,b4,Nbd2,a5,Rb1,a4,b3,a3,Nc4,Nd7,Qe1,Nde5,Qh4,Nxf3+,Rxf3,Nd4,Rf2,Ba6,Bh6,Bxc4,dxc4,Nc6,Bxg7,Kxg7,g5,Ne5,Qh6+,Kg8', 'f6,exf6,gxf6', 'https://lichess.org/training/AGOQ3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('agOYS', 'Blitz', 'Kirk_Gruber', 1697, 'rdiaz_02', 1720, 'e4,c5,Nf3,Nc6,Nc3,d6,Bb5,g6,Bxc6+,bxc6,O-O,Bg7,d3,e5,Bg5,Ne7,Re1,O-O,a4,f6,Bd2,f5,Ne2,fxe4,dxe4,Bg4,Ng3,Bxf3,gxf3,d5,exd5,cxd5,c3,Nc6,b4,cxb4,cxb4,a6,Qc1,Qb6,Rb1,Rxf3,Be3,d4,Bg5,Bf8,b5,d3,bxc6,Qxf2+,Kh1,e4,Rf1,Qd4,Rxf3,exf3,c7,Qf2,Qc4+,Kg7,Rg1,d2,Qd3,Rc8,Qd7+,Kg8,Bf6,Rxc7,Qxc7,d1=Q', 'Qc4+,Qd5,Qxd5#', 'https://lichess.org/training/agOYS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aGpDz', 'Rapid', 'ChesstaChess', 1844, 'yavuzgoksu', 1812, 'd4,d5,c4,dxc4,Nc3,Nf6,e3,Nd5,Bxc4,Nxc3,bxc3,Nc6,Ne2,Bf5,Ng3,Bg6,Qf3,e5,O-O,exd4,cxd4,Bd6,Ne4,O-O,Bb2,Re8,Nxd6,Qxd6,a4,Na5,Bb5,c6,Be2,Be4,Qh3,Qg6,f3,Bf5,Qh4,Bd3,Bxd3,Qxd3,e4,Nc4,Qf2,Red8,Rad1,Qe3,Bc1,Qxf2+,Kxf2,Rd7,d5,Rad8,Ke2,cxd5,Rd4,Nb6,a5,dxe4,Rxd7,Nxd7,Rd1,Kf8,fxe4,Ke8,Be3,b6,axb6,axb6,Rb1,Rb8,Kf3,Kd8,Kf4,Kc7,Kf5,g6+,Kg5,b5', 'Bf4+,Kd8,Bxb8', 'https://lichess.org/training/aGpDz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('agPi0', 'Rapid', 'DanielFromBS', 1823, 'jpindian7', 1744, 'e4,c5,Nf3,Nc6,g3,a6,Bg2,g6,c3,Bg7,O-O,e6,d3,Nge7,Nbd2,O-O,h4,h6,Nh2,d5,Qc2,dxe4,dxe4,Ne5,f4,Nd3,Nc4,Nxc1,Raxc1,b5,Rcd1,Qc7,Nd6,Rb8,Ng4,Nc6,e5,Ne7,Nxc8,Rfxc8,Rd2,Rd8,Rfd1,Rxd2,Qxd2,Nf5,Kh2,h5,Nf6+,Bxf6,exf6,e5,fxe5,Qxe5,Qg5,Re8,Rd5,Qe3', 'Rxf5,Qxg5,Rxg5', 'https://lichess.org/training/agPi0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AGpuy', 'Rapid', 'karimi13511351', 1791, 'alexanderzolota', 1515, 'e4,e5,Nf3,d6,h3,h6,d4,Nc6,dxe5,Nxe5,Nxe5,dxe5,Qxd8+,Kxd8,Bc4,Ke7,Nc3,c6,O-O,Be6,b3,b5,Be2,Nf6,Be3,Nd7,Rad1,g5,a4,a6,axb5,axb5,Rd2,Bg7,Rfd1,Rhd8,Kh2,f6,g3,f5,f4,g4,hxg4,fxg4,f5,Bf7,Bxg4,h5,Bh3,Nf6,Rxd8,Rxd8,Rxd8,Kxd8,Bg5,Kc7,Bxf6,Bxf6,g4,h4,Kg1,Bg5,Kf1,Bd2,Nb1,Be3,Ke2,Bf4,Kd3,Kb6,c4,b4,Nd2,Bxd2,Kxd2,Kc5,Ke3,Kd6,g5,Ke7,Kf3,Bh5+,Bg4,Bf7,g6,Bg8,Bh5,Kf6,Kg4', 'Bxc4,bxc4,b3,Kxh4,b2', 'https://lichess.org/training/AGpuy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aGqXh', 'Rapid', 'afro_tatum', 1669, 'ellaja', 1632, 'e4,b6,e5,Bb7,d4,e6,f4,a5,a3,Ne7,Nf3,Nf5,g4,Bxf3,Qxf3,Nxd4,Qe4,Qh4+,Kd2,Qf2+,Kd1,Qf3+', 'Qxf3,Nxf3,Bg2', 'https://lichess.org/training/aGqXh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AGqzh', 'Blitz', 'Mandalorian37', 2473, 'FM SereFra99', 2452, 'e4,c6,Nc3,d5,d4,dxe4,Nxe4,Bf5,Qe2,Qxd4,Ng3,Bg6,Nf3,Qd8,Bf4,e6,Rd1,Qb6,Qd2,Be7,Bc4,Nf6,O-O,O-O,Ne5,Nd5,Nxg6,hxg6,Be5,Nd7,Bd4,Bc5,Bxc5,Qxc5,Bb3,N7f6,Qg5,Qe7,c4,Nb6,Rd4,Rad8,Rf4,Nbd7,h4,Nd5', 'cxd5,Qxg5,hxg5', 'https://lichess.org/training/AGqzh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aGusA', 'Blitz', 'IM EricRosen', 2458, 'FM Aisen_Mestnikov', 2389, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nge7,Nc3,g6,d4,exd4,Nd5,Bg7,Bg5,b5,Nxd4,Bxd4,Qxd4,O-O,Nf6+,Kh8,Ng4+,Nxd4', 'Bf6+,Kg8,Nh6#', 'https://lichess.org/training/aGusA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aGV9n', 'Rapid', 'e-dule', 1830, 'epha', 1712, 'e4,c6,d3,d5,exd5,cxd5,f4,Nh6,h3,Nc6,Nf3,e5,fxe5,Bc5,d4,Nxd4,Bg5', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/aGV9n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('agw8e', 'Rapid', 'LastManStanding33', 2243, 'Tiranno', 2084, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,a3,cxd4,cxd4,Nh6,Bxh6,gxh6,b4,Bg7,Ra2,O-O,Nc3,f6,Na4,Qd8,exf6,Qxf6,Rd2,Bd7,Nc5,Be8,Be2,Bh5,Nd7,Qg6,Nxf8,Rxf8,O-O,Bxf3,Bxf3,Nxd4,Bxd5,exd5,Rxd4,Bxd4,Qxd4,Qe4,Rd1,Rc8,g3,Rc1,Qd2,Rxd1+,Qxd1,d4,Kf1,d3,f3,Qe3,Qb3+,Kf8,Qd5,Qe2+,Kg1,d2,Qd8+,Kf7,Qd7+,Kf6,Qd6+,Kf5,g4+,Kg5,Qd5+,Kf4', 'Qf5+,Ke3,Qe4#', 'https://lichess.org/training/agw8e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AGX4g', 'Rapid', 'georgpoltevskoy', 1868, 'Sakkmester99', 1849, 'e4,e5,Bc4,Nc6,Nf3,Nf6,Ng5,d5,exd5,Na5,Qe2,Nxc4,Qxc4,Nxd5,d4,exd4,O-O,Be7,Re1,O-O,Ne4,Nb6,Qe2,c5,Qh5,Nd7,Bg5,Bxg5,Nxg5,Nf6,Qe2,Re8,Qd2,Bf5,Na3,h6,Nf3,Ne4,Qf4,Bg6,Ne5,Qf6,Nxg6,Qxg6,Nc4,f6,Re2,Re7,Rae1,Rae8,f3,Nd6', 'Rxe7,Rxe7,Rxe7', 'https://lichess.org/training/AGX4g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AGxca', 'Rapid', 'DT-2000', 1732, 'Timlin', 1713, 'd4,e6,e3,d5,a3,c5,c3,c4,g3,Nc6,Bg2,b5,Nf3,Qa5,Bd2,b4,O-O,b3,Qe2,Nf6,Ne5,Qc7,Nxc6,Qxc6,f4,g6,Bc1,h5,Nd2,Ng4,h3,Nf6,e4,Be7,exd5,exd5,Nf3,Qe6,Ne5,Ba6,Be3,Qf5,Bd2,Rc8,Nf3,Ne4,Be1,Rc6,Ne5,Re6,Qf3,f6', 'g4,hxg4,hxg4,Rxe5,gxf5', 'https://lichess.org/training/AGxca');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aGXLZ', 'Classical', 'freedom2121', 1924, 'GambitImpro', 1873, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,Nxe5,d5,Qf3,Be6,O-O,Bc5,Bd3,Nd6,Re1,O-O,b3,Qh4,Bb2,Nd7,Nc3,Nf6,Qg3,Qxg3,hxg3,c6,Ne2,Nde4,Bxe4,Nxe4,d4,Bd6,f3,Nf6,g4,h6,Nf4,Nd7', 'Nxe6,fxe6,Nxd7', 'https://lichess.org/training/aGXLZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Agybr', 'Rapid', 'MohamedAtef', 1955, 'ThiagoSSoler', 1869, 'e4,e5,f4,exf4,Nf3,g5,Bc4,d6,O-O,Nc6,d3,Bg4,Nc3,Nd4,Ne5,Bxd1', 'Bxf7+,Ke7,Nd5#', 'https://lichess.org/training/Agybr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AGYU7', 'Classical', 'mohammed997', 1856, 'wuhbadubadubdub', 1764, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,b3,Bg7,Bb2,Qb6,c3,d6,Nd2,Nxd4,Nc4,Qc6,cxd4,Qxe4+,Ne3,Nf6,Bd3,Qf4,Bc1,Qxd4,Bb5+,Nd7,O-O,Qxd1,Rxd1,Bxa1,Nd5,a6,Bxd7+,Bxd7,Nc7+,Kd8,Nxa8,b5,Bd2,Bd4', 'Ba5+,Kc8,Rxd4', 'https://lichess.org/training/AGYU7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ah0tg', 'Rapid', 'yahia285', 1679, 'Evgeniy_Victorovich', 1778, 'e4,c5,Bc4,Nc6,d3,Nf6,c3,d5,exd5,Nxd5,Qf3,Nf6,Bg5,Bg4,Qf4,e5,Bxf6,exf4,Bxd8,Rxd8,f3,Bf5,Ke2,a6,g4,Bg6,a4,Na5,Ba2,Bxd3+,Kf2,c4,Nd2,Bc5+,Kg2,O-O,b4,cxb3,Nxb3,Nxb3,Bxb3,b5,axb5,axb5,Nh3,Rfe8,Nxf4,Bd6,Nxd3,Re2+,Kh3,Bb8,Nc5,g5,Ra8,Kg7,Nd7,Rxd7,Rxb8,Rd3,Kg3,h5,h4,hxg4,Kxg4,f5+,Kxf5,Rxf3+,Kxg5', 'Rg2+,Kh5,Rf5#', 'https://lichess.org/training/ah0tg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ah0TO', 'Rapid', 'tirald', 1648, 'metrvr', 1698, 'e4,c5,g3,e5,Bg2,Be7,b3,Nc6,Bb2,d6,Nf3,Bg4,O-O,b5,Re1,b4,a3,a5,axb4,axb4,c3,Nf6,cxb4,Nxb4,Bc3,O-O,Rxa8,Qxa8,Bxb4,cxb4,d3,Qa2,Nbd2,Ra8,Qb1,Bd8,Nc4,Bc7,Rc1,h6,Qxa2,Rxa2,h3,Bxf3,Bxf3,Ne8,Kg2,Kf8,h4,g6,Bg4,Ke7,Kf3,h5,Bh3,Kd8,Ke3,Bb8,f3,Ba7+,d4,Bxd4+,Kd3,Rh2,Bf1,Rh1,Na5,Kd7,Kc4,Bf2,Kxb4,Bxg3,Rd1,Bxh4,Nb7,Bf2', 'Bb5+,Kc7,Rxh1', 'https://lichess.org/training/ah0TO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AH1cB', 'Rapid', 'Rinoshan', 1711, 'yakachoisir', 1893, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,d3,O-O,Ng5,h6,h4,Nh7,Nf3,Nd4,Bxh6,gxh6,Nxd4,d5,Nxd5,Bxd4,c3,Bxf2+,Kxf2,c6,Qf3,cxd5,Bxd5,Be6,Qg3+,Kh8,Qxe5+,Kg8,Qg3+,Kh8,Ke2,Bxd5,exd5,Qxd5,Kd2,Rae8,Rhe1,Rxe1,Qxe1,Qxg2+,Qe2,Qxe2+,Kxe2,f5,d4,Nf6,Rd1,Nd5,Kf3,Re8,Rd3,Re2,c4,Nb4', 'Kxe2,Nxd3,Kxd3', 'https://lichess.org/training/AH1cB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ah25Y', 'Rapid', 'Madoka', 1847, 'Braugomes', 1798, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,Nf6,Nc3,d5,exd5,exd5,Re1+,Be7,Bb3,O-O,d3,a6,h3,b5,a3,Bf5,Nh2,c4,dxc4,dxc4,Ba2,Qxd1,Rxd1,Bxc2,Re1,Bc5,Be3,Bxe3,Rxe3,Rfe8,Rae1,Rxe3,Rxe3,Re8,Rxe8+,Nxe8,Nf3,Nd6,Bb1,Bxb1,Nxb1,f6,Nc3,Kf7,Kf1,Ke6,Ke2,Nf5,g4,Nfd4+,Ke3,Nxf3,Kxf3,Nd4+,Ke3,Ke5', 'f4+,Ke6,Kxd4', 'https://lichess.org/training/ah25Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ah2X0', 'Classical', 'mohmohcom', 2128, 'smauf77', 1838, 'd4,d5,Nf3,Nf6,c4,c6,Nc3,e6,Bg5,dxc4,e4,b5,e5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Be7,exf6,Bxf6,Bxf6,Qxf6,g3,Bb7,Bg2,Na6,Nxb5,O-O-O,Nxa7+,Kc7,Qa4,Rd6,O-O,Ra8,Qa5+,Kb8,Nxc6+,Bxc6', 'Qb6+,Kc8,Bxc6', 'https://lichess.org/training/ah2X0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aH2Zt', 'Classical', 'WorldWorstPlayer0', 1928, 'kasmaran', 1992, 'e4,Nf6,Nc3,d6,d4,Nbd7,Nf3,e5,Bc4,Be7,O-O,O-O,h3,exd4,Qxd4,a6,Ng5,Ne5,f4,Nxc4,Qxc4,b5,Qd3,b4,Nd5,Bb7,Bd2,Nxd5,exd5,Bxg5,fxg5,c6,Bxb4', 'Qb6+,Rf2,Qxb4', 'https://lichess.org/training/aH2Zt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ah4QJ', 'Blitz', 'johanes33', 2119, 'cengkiki', 2283, 'c4,Nf6,Nf3,g6,g3,Bg7,Bg2,O-O,O-O,d6,h4,Nc6,d3,e5,Nc3,Bg4,Kh2,Bh5,a3,Ng4+,Kg1,h6,Nh2,Nxh2,Kxh2,f5,Rb1,g5,hxg5,hxg5,Qd2,f4,Rh1,Bf6,Kg1,Bg6,Bd5+,Kg7,Ne4,Rh8,Kg2,Rxh1,Kxh1,Qh8+,Kg2,g4,gxf4,Qh3+,Kg1,Rh8,Ng3,Nd4,Qe3,exf4,Qxf4,Be5,Qe3,Bxg3', 'Qe7+,Bf7,Qxf7#', 'https://lichess.org/training/ah4QJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ah5JA', 'Rapid', 'pasha_1980', 1771, 'VKTHEDON', 1765, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,Be7,O-O,Nf6,Bxf7+,Kxf7,Ng5+,Ke8,f5,h6,Ne6,Bxe6,fxe6,Nd4,Rxf6,Bxf6', 'Qh5+,g6,Qxg6+,Kf8,Qf7#', 'https://lichess.org/training/ah5JA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ah8SZ', 'Classical', 'Winthrop1620', 1795, 'Maitham_salah', 1640, 'd4,d5,Bf4,e6,Nf3,c5,e3,Nf6,Ne5,a6,c3,c4,Nd2,Be7,Be2,O-O,g4,Nc6,g5,Ne4,Nxc6,bxc6,h4,f6,f3,fxg5,Be5,Nxd2,Kxd2,gxh4,Qg1,Bf6,f4,Bxe5,fxe5,Ra7,Rf1,Rb7,Kc1,Rbf7,Rxf7,Rxf7,Qg2,Kf8,Rf1,Ke7', 'Qg5+,Ke8,Qxd8+,Kxd8,Rxf7', 'https://lichess.org/training/ah8SZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ah9k0', 'Rapid', 'jUstusj0n4s', 1861, 'Magen99', 1789, 'Nf3,d5,g3,c6,Bg2,Bg4,O-O,Nf6,d3,h6,Nc3,Nbd7,e4,dxe4,dxe4,Ne5', 'Qxd8+,Rxd8,Nxe5', 'https://lichess.org/training/Ah9k0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AH9kf', 'Rapid', 'Dekka2', 1890, 'Coatsi_2002', 2191, 'd4,Nf6,Nf3,d5,c4,e6,Nc3,Be7,Bg5,h6,Bh4,O-O,e3,Ne4,Bxe7,Qxe7,Qb3,c6,Bd3,Nxc3,Qxc3,dxc4,Qxc4,Nd7,O-O,e5,Qc2,Re8,Rfe1', 'e4,Bxe4,Qxe4,Qxe4,Rxe4', 'https://lichess.org/training/AH9kf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aHCgo', 'Rapid', 'deepme_987', 1743, 'karakedi61', 1757, 'e4,c5,Nf3,Nc6,Bc4,e6,Nc3,a6,a3,Nge7,d4,cxd4,Nxd4,Nxd4,Qxd4,Nc6,Qd3,b5,Ba2,Bb7,O-O,Qc7,g3,b4,axb4,Bxb4,Bc4,O-O,Bxa6,Bxc3,Bxb7,Rxa1,Bxc6,Bxb2,Bxb2,Rxf1+,Kxf1,Qxc6,c4,Rd8,e5,d6,Kg1,Qb6,Qc3,Rb8,exd6,Qxb2,Qxb2,Rxb2,c5,Rc2', 'd7,Rc1+,Kg2,Rd1,c6,Kf8,c7,Ke7,c8=Q', 'https://lichess.org/training/aHCgo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ahDCk', 'Rapid', 'alireza1029', 1631, 'fberrod', 1680, 'e4,d5,e5,c5,c3,Bf5,d4,cxd4,Qa4+,Nc6,cxd4,a6,Nf3,e6,Nc3,Be7,h3,b5,Qd1,Bb4,Bd3,Bxd3,Qxd3,Nge7,a3,Ba5,Bd2,Nf5,O-O,Bb6,Be3,O-O,a4,b4,Na2,a5,Nc1,Nxe3,fxe3,Rc8,b3,Ne7,Ne2,Nf5,Kh2,Rc6,Ng3,Nxg3,Kxg3,Qc8,Ng5,g6,Rf2,Rc3,Qd2,Rxb3,Raf1,Qd8,Nxf7,Rxf7,Rxf7,Qg5+,Kh2,Rxe3,Rf8+,Kg7,R1f7+,Kh6,Qf2,Bxd4', 'Rxh7+,Kxh7,Qf7+,Kh6,Rh8#', 'https://lichess.org/training/ahDCk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AhdLY', 'Rapid', 'reveforever', 1943, 'BlRadler', 1965, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bd3,h6,O-O,Bb4,c3,Ba5,Re1+,Be6,Bf4,O-O,h3,c6,Nbd2,Nbd7,Ne5,Bc7,Qf3,Nxe5,dxe5,Nd7,Qg3,g5,h4,f6,hxg5,hxg5,Nf3,g4,Nh2,fxe5,Bxe5,Nxe5,Rxe5,Bxe5,Qxe5,Qf6,Qg3,Rf7,Re1,Raf8,f3,Rg7,fxg4,Qf4', 'Qxf4,Rxf4,Rxe6', 'https://lichess.org/training/AhdLY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ahdt8', 'Blitz', 'RandolfhMataJr16', 1822, 'jeffrey_a_vegas_1985', 2187, 'e4,e6,Nc3,d5,d4,dxe4,Nxe4,Nf6,Nxf6+,Qxf6,Bd3,h6,Nf3,Bd6,h4,Nd7,Qe2,c6,Bd2,Qe7,O-O-O,a5,Ne5,Bxe5,dxe5,b5,Be4,Bb7,Qf3,Rc8,g4,a4,a3,Nxe5,Qg2,Nc4,Bb4,Qc7,g5,h5,g6,f5,Bf3,Ba8,Rhe1,e5,Be2,c5,Qg5,cxb4,Qxf5,Rf8,Qe6+,Qe7,Bxc4,Qxe6,Bxe6,Rd8,Bf7+,Ke7,Rxe5+,Kf6,Re6+,Kf5,Rg1,Rxf7,Re3,Rf6,Rg5+,Kf4,Rxb5,bxa3,Rxa3,Bc6,Rg5,Rd5,Rgg3,Re6,Raf3+,Ke5,c3,Kd6,Rf7,Re1+,Kc2,Rdd1,Rd3+,Bd5', 'Rxd1,Rxd1,Kxd1,Bxf7,gxf7', 'https://lichess.org/training/ahdt8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AHE42', 'Blitz', 'NM Aborigen100500', 2607, 'GM lanchester1', 2658, 'Nc3,c5,e4,a6,a4,e6,g3,b6,Bg2,Bb7,d3,d5,exd5,Nf6,Bg5,Be7,Nge2,Nxd5,Bxe7,Qxe7,Nxd5,Bxd5,Bxd5,exd5,O-O,O-O,Nf4,Rd8,Re1,Qd6,c4,dxc4,dxc4,Nc6', 'Re8+,Qf8,Rxf8+', 'https://lichess.org/training/AHE42');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ahEHr', 'Blitz', 'Mubeenkhan', 1960, 'LeppyLeppert', 1890, 'e4,c6,d4,d5,e5,c5,c3,Nc6,Bd3,cxd4,f4,dxc3,Nf3,cxb2,Bxb2,e6,O-O,Bc5+,Kh1,Nh6,Nbd2,Ng4,Qe2,O-O,h3,Ne3,Nb3,Nxf1,Rxf1,Bb6', 'Bxh7+,Kxh7,Ng5+,Qxg5,fxg5', 'https://lichess.org/training/ahEHr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AhEOo', 'Rapid', 'suvkos', 2016, 'kobil', 2157, 'd4,c6,Bf4,d5,e3,Bf5,c4,dxc4,Bxc4,e6,Qb3,Qb6,Nd2,Nf6,Ngf3,Nbd7,h3,Be7,O-O,O-O,Nh4,Bg6,Nxg6,hxg6,Qxb6,Nxb6,Be2,Nbd5,Bh2,Rac8,Rfc1,Rfd8,a3,a6,Nb3,Rd7,Nc5,Bxc5,Rxc5,Ne7,b4,Rcd8,a4,Ra8,f3,Nf5,Kf2,Ne7,Rac1,Ned5,b5,axb5,axb5,cxb5,Rc8+,Rxc8', 'Rxc8+,Kh7,Bxb5', 'https://lichess.org/training/AhEOo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aHfl4', 'Rapid', 'Dtrain0421', 1920, 'Musalza', 1917, 'd4,Nf6,Bf4,g6,e3,Bg7,c3,d6,Bg3,Nbd7,Bc4,a5,a4,c5,Qb3,O-O,Nd2,Nb6,dxc5,dxc5,Rd1,Bd7,Bb5,c4,Nxc4,Nxc4,Qxc4,Bxb5,Qxb5,Qc8,Nf3,Rd8,O-O,Ne4,Bf4,Nd6,Qb3,Qc6,Be5,Rac8,Rd2,Nc4,Rxd8+,Rxd8,Bxg7,Kxg7,Nd4,Qc8,h3,Nd2,Qa3,Nxf1,Kxf1,Qc4+,Kg1,e5,Qe7,Rd5,Nb5,Rd1+,Kh2,Qe4,Nd6,Qd5', 'Ne8+,Kg8,Nf6+', 'https://lichess.org/training/aHfl4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aHFqH', 'Rapid', 'DavidValor', 1908, 'SangamP', 1820, 'd4,Nf6,Bf4,d5,Nf3,Bf5,e3,e6,c3,Nc6,Nbd2,a6,Be2,Be7,h3,Ne4,Nxe4,dxe4,Nd2,h6,g4,Bh7,f3,exf3,Bxf3,O-O,Be4,f5,Bxc6,bxc6,Qa4,Qd7,O-O-O,fxg4,hxg4,Bd6,Bxd6,Qxd6,Rdf1,Rxf1+,Rxf1,Qg3,Qxc6,Rb8,Qxe6+,Kh8,Nc4,Qg2,Nd2,Rxb2,Kxb2,Qxd2+,Kb3,Qc2+,Kb4,Qb2+,Qb3,a5+,Ka4', 'Bc2,Rf8+,Kh7,Qxc2+,Qxc2+', 'https://lichess.org/training/aHFqH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ahFZb', 'Rapid', 'lenoxws', 1668, 'morgov', 1694, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d3,h6,Be3,Bxe3,fxe3,O-O,O-O,Na5,Bb3,Nxb3,axb3,Re8,Qe1,d5,exd5,Nxd5,Nxd5,Qxd5,e4,Qd4+,Qf2,Qxb2,Nd2,b6', 'Qxf7+,Kh7,Qxe8,Qd4+,Kh1', 'https://lichess.org/training/ahFZb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ahgkX', 'Blitz', 'Felipe1623', 1660, 'NoPlunders', 1674, 'e4,c5,Nf3,Nc6,Bc4,e6,Nc3,Nf6,O-O,Be7,a3,O-O,d3,d5,exd5,exd5,Ba2,a6,Bg5,c4,dxc4,dxc4,Bxc4,b5,Qxd8,Rxd8,Bb3,h6,Bh4,Bb7,Rfe1,g5,Bg3,Bc5,Ne5,Nxe5,Bxe5,Ng4,Bg3,Rd2,Rad1,Rad8,Rxd2,Rxd2,Ne4,Bxe4,Rxe4', 'Rd1+,Re1,Rxe1#', 'https://lichess.org/training/ahgkX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AhhVu', 'Rapid', 'frehel', 1783, 'talizmelf', 1814, 'd4,Nf6,Bf4,d6,e3,g6,h3,Bg7,Nf3,O-O,Nbd2,Re8,Be2,e5,dxe5,dxe5,Bg5,Qd6,O-O,e4,Bxf6,Qxf6,Nd4,Qg5,Kh1,Qh4,Bg4,f5,Be2,h5,Nb5,Na6,c3,f4,exf4,Bxh3,Kg1,Qxf4,f3,e3,Ne4,Be5,g3,Qh6,Bc4+,Kh7,Re1,h4,f4,Bxf4', 'Nf6+,Kh8,Nxe8', 'https://lichess.org/training/AhhVu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aHIQA', 'Blitz', 'cheqy', 2071, 'igordm', 2068, 'e4,c6,d4,d5,exd5,cxd5,c4,Be6,cxd5,Bxd5,Nc3,Nf6,Nf3,e6,Bg5,Be7,Bd3,h6,Bh4,Nc6,O-O,O-O,Bb5,a6,Ba4,b5,Bc2,Bxf3,Qxf3,Nxd4,Qd3,Nxc2,Qxc2,Rc8,Rad1,Nd5,Bxe7,Qxe7,Nxd5,exd5,Qd3,Rfd8,Rfe1,Qd7,Qg3,Rc6,Re5,Rg6,Qf3,d4,Re4,d3,Re3,d2,Re2,Rd6,Kf1,Rd3,Qf4,Qd5,b3,a5,Re5,Qd6,Qf5,f6,Rxb5,Qxh2,Rxa5,Re8,Qh5,Re1+,Rxe1,dxe1=Q+,Kxe1', 'Qg1+,Ke2,Qd1#', 'https://lichess.org/training/aHIQA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AHivj', 'Blitz', 'AQLUPOFAMELICO', 1878, 'Timman_nl', 1930, 'e4,e5,c3,Nf6,d4,Nxe4,Bd3,d5,dxe5,Bc5,Bxe4,dxe4,Qxd8+,Kxd8,Be3,Bxe3,fxe3,Nc6,Ne2,Nxe5,O-O,Nd3,Nd2,Nxb2,Nxe4,Be6,Rab1,Nc4,Rxb7,Nxe3,Rfb1,Ke7,Rxc7+,Kd8,Rcb7,Re8,Kf2,Nf5,Rd1+,Kc8,Nc5,Bc4,Nd4,Nd6,Rd7,Ne4+,Kf3,Nxc5,Rd6,Ne6,Rc6+,Kb7', 'Rb1+,Bb5,Rxb5#', 'https://lichess.org/training/AHivj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ahK9U', 'Rapid', 'JTJ440', 2089, 'chessman007', 1972, 'e4,Nc6,Nf3,e6,d4,d5,e5,Nge7,Bd3,Nf5,c3,h5,O-O,Be7,Nbd2,b6,Re1,g6,Nf1,Bb7,a4,Qd7,Ne3,a5,Nc2,Ba6,Bxa6,Rxa6,b3,Ra8,Ba3,Kf8,Bxe7+,Qxe7,Na3,Kg7,Nb5,h4,h3,Na7,Nxa7,Rxa7,Nh2,c5,Ng4,cxd4,cxd4,Rc8,Qd3,Qb4,Qb5,Qxb5,axb5,Nxd4,b4,Nxb5,bxa5,Rxa5,Rab1,Rc5,Nf6,Rc6,Rb4,Nc3,Rxh4,g5,Rh7+,Kg6,Rh8,Ra2,Rg8+,Kf5', 'g4+,Kf4,Nh5+,Kf3,Re3#', 'https://lichess.org/training/ahK9U');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AhkK4', 'Rapid', 'khosronikan', 1631, 'Samey1', 1685, 'e4,e6,d4,d5,e5,Qh4,Nf3,Qe4+,Be3,Be7,c4,Nc6,h3,Nb4,Na3,Bd7,Rc1,O-O-O,Nb5,Bxb5,cxb5,Nh6,a3,Nf5,Qb3,Nxe3,fxe3,Na2,Rd1,f6,Kf2,Nb4,axb4,Qg6,Bd3,Qh6,Rhf1,fxe5,dxe5,Bg5,Be2,Rhf8,Ra1,Bh4+,Kg1,Bg5,Rxa7', 'Bxe3+,Kh1,Bxa7', 'https://lichess.org/training/AhkK4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aHKKX', 'Rapid', 'gorg1450', 1923, 'yaalper', 1895, 'd4,Nf6,c4,g6,Nc3,Bg7,Bg5,h6,Bh4,d5,Bxf6,Bxf6,Nxd5,Bg7,e3,O-O,Bd3,e6,Nc3,Qe7,Nge2,c6,O-O,Nd7,Bc2,Nb6,b3,Rd8,c5,Nd5,Nxd5,exd5,Nf4,Re8,Qf3,Qg5,g3,Bg4,Qg2,Qd8,h3,Bd7,h4,Be6,h5,g5,Nxe6,Rxe6,Qf3,Rf6,Qg4,Qe7,Rae1,Re8,f4,Qe6,Qxe6,Rexe6,fxg5,Rxf1+,Kxf1,hxg5,Kf2,g4,Bf5', 'Rf6,e4,dxe4,Rxe4,Rxf5+', 'https://lichess.org/training/aHKKX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AHl4D', 'Classical', 'Ammar-91', 1714, 'WallaceKaiser', 1650, 'e4,Nf6,e5,Ng8,d4,c5,c3,d6,f4,Nc6,Nf3,g6,Be3,Bg7,Bc4,Bg4,h3,Bxf3,Qxf3,Nh6,Nd2,Nf5,g4,cxd4,cxd4,Nfxd4,Bxd4,Nxd4,Qe4,Qb6,O-O,Nc2+,Kh1,Nxa1,Qd5,e6,Bb5+,Ke7,exd6+,Qxd6', 'Qxb7+,Kf8,Qxa8+', 'https://lichess.org/training/AHl4D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AhnDy', 'Blitz', 'bloodpressure', 2099, 'Fizuli55', 1962, 'd4,d5,Nf3,e6,c4,Nf6,Nc3,Be7,Bg5,h6,e3,hxg5,Rc1,b6,Nxg5,Bb7,Qf3,Nbd7,cxd5,exd5,Nb5,c6,Nc3,Bb4,Bd3,Qe7,O-O,Bxc3,bxc3,O-O-O,Rfe1,Rh5,Qg3,Rdh8,f3,Ne4,Nxe4,dxe4,Bxe4,Nf6,Bd3,Nd5,c4,Nb4,Bb1,Rg5,Qf4,Rh4,Bf5+,Kd8', 'Qb8+,Bc8,Qxc8#', 'https://lichess.org/training/AhnDy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ahOJ9', 'Blitz', 'Zhdanov63', 1806, 'GeoFH23', 1786, 'e4,e6,d4,d5,c4,dxe4,Nc3,Bb4,Qc2,Nf6,a3,Bxc3+,bxc3,O-O,Nh3,c5,Bg5,Nbd7,Nf4,Qc7,d5,exd5,Nxd5,Nxd5,cxd5,Qd6,c4,Nf6,Be2,Bf5,Be3,b6,O-O,Rfe8,Rad1,Ng4,Bxg4,Bxg4,Rd2,Bf5,Qc3,Bg6,Qc1,Re7,Rdd1,Rae8,Bf4,Qf6,d6,Rd7,Bg5,Qf5,Be7,Bh5,Rd5,Qg4,Rg5,Qe2,Qf4,Rexe7,dxe7', 'Qxf1+,Kxf1,Rd1#', 'https://lichess.org/training/ahOJ9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AhPcd', 'Classical', 'namuun10', 1691, 'atan1967', 1697, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,Bb4+,Bd2,Bxd2+,Nxd2,d6,Ngf3,h6,g3,Qe7,Bg2,Bd7,O-O,Nf6,c3,O-O,Rfe1,Rab8,e5,dxe5,Nxe5,Nxe5,Qxe5,Qxe5,Rxe5,c6,Rae1,Be6,a4,Nd7,R5e3,Nc5,a5,Rfd8,Nf3,Nb3,a6,bxa6,Ne5,Bd5', 'Bxd5,cxd5,Nc6', 'https://lichess.org/training/AhPcd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AHpkq', 'Rapid', 'Kartofel57', 1723, 'dchess20', 1708, 'e4,d5,exd5,Qxd5,Nc3,Qe6+,Be2,Nf6,Nf3,h6,h3,g5,d3,c5,g4,Bg7,Be3,b6,Nb5,Qc6,c4,a6,Nc3,Bb7,d4,Ne4,d5,Nxc3', 'dxc6,Nxd1,cxb7', 'https://lichess.org/training/AHpkq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AHPqv', 'Rapid', 'mimo1989', 1861, 'sola1965', 1887, 'e4,c6,d4,d5,exd5,cxd5,Nf3,e6,Be2,Nf6,O-O,Bd6,Bg5,h6,Bh4,O-O,Nc3,a6,h3,Nc6,Nh2,Be7,Ng4,Nxg4,Bxe7,Qxe7,Bxg4,Qb4,Rb1,Qxd4,Qe2,b5,Rbd1,Qb4,Rb1,Bb7,a3,Qd6,f4,Qc5+,Kh1,Nd4,Qd3,Nc6,f5,Ne5,Qg3,Nxg4,Qxg4,exf5,Qxf5,Qc6,Rf2,Rad8,Rbf1,Qe6,Qf4,d4,Ne2,d3,cxd3,Rxd3,Qc7,Rd7,Qc3,Qc6,Qg3,Qe6,Nf4,Qd6,Qg4,Qd4,Qg3,Bc8', 'Ne6,fxe6,Rxf8+', 'https://lichess.org/training/AHPqv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AHPSm', 'Rapid', 'MidweekDonkey', 1967, 'zlato', 1900, 'e4,e5,Nc3,Nc6,Bc4,Bb4,Nd5,Nce7,Nxb4,Nf6,d3,O-O,Bg5,a5,Nd5,Nfxd5,Bxd5,h6,Bxe7,Qxe7,a3,Ra6,Nf3,c6,Ba2,Rb6,Rb1,d6,O-O,Bg4,h3,Bh5,g4,Bg6,b4,a4,c4,Ra6,b5,cxb5,cxb5,Ra5,Qd2,Rfa8,Rfc1,Qd8,b6,R8a6,Rc7,Qb8,Bd5,Rxb6,Rxb7', 'Rxb1+,Kg2,Rxb7', 'https://lichess.org/training/AHPSm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AHqjV', 'Classical', 'Lowran', 1990, 'ammarsalim', 1907, 'e4,d6,d4,Nf6,Nc3,Nbd7,f4,e5,fxe5,dxe5,dxe5,Nxe5,Qxd8+,Kxd8,Bf4,Ng6,O-O-O+,Bd7,Bg5,Be7,h3,h6,Be3,Bd6,g4,Re8,Bg2,Bc6,Bc5,Nxe4,Nxe4,Bxe4,Bxe4,Rxe4,Bxd6,cxd6,Rxd6+,Kc7,Rd1,Rd8,Nf3,Nf4,Rxd8,Kxd8,Kd2,Re2+,Kd1,Re3,Ng1,Rg3,a4,Kd7,b3,h5,gxh5,Nxh5,Ne2,Rg2,h4', 'Rxe2,Kxe2,Ng3+,Kf3,Nxh1', 'https://lichess.org/training/AHqjV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AhrIJ', 'Rapid', 'Pumpkinss', 1936, 'Ariel_P', 1945, 'd4,d5,Bf4,Nf6,e3,e6,Nf3,Bd6,Bxd6,Qxd6,Bd3,Nbd7,O-O,O-O,c3,c6,Nbd2,e5,dxe5,Nxe5,Nxe5,Qxe5,Nf3,Qh5,Nd4,Qe5,Ne2,Bg4,h3,Bh5,Qc2,Rfe8,Nf4,Rad8,Nxh5,Qxh5,Be2,Qe5,Qb3,Re7,a4,Ne4,Qc2,Rde8,Rfc1,f5,Qd3,Re6,Bf3,Rg6,Bxe4,fxe4,Qd4,Qe6,Kh1,a6,Qb6,Qf7,b4,Qxf2,Rg1,Qf7,b5,axb5,axb5,cxb5,Qxb5,Qe6,Qxb7,h6,Ra5,Rg5,Rd1,Rf8,Raxd5,Rg3,Re1,Qf6,Rd4,Qf2,Rg1,Qxe3,Qxe4', 'Rxh3+,gxh3,Qxh3#', 'https://lichess.org/training/AhrIJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AhrMG', 'Blitz', 'Saberjafari', 2210, 'FM grinpavl', 2128, 'e4,c5,Nf3,Nf6,e5,Nd5,c3,d6,d4,cxd4,cxd4,Nc6,Bc4,dxe5,dxe5,e6,O-O,Be7,Na3,O-O,Qe2,a6,Be3,b5,Bb3,Bb7,Rad1,Na5,Bc2,Rc8,Bb1,g6,Nc2,Qc7,Ncd4,Rfd8,Bg5,Nc4,Bxe7,Qxe7,h3,Rc7,Kh1,Rcd7,Nh2,Qh4,Ng4,h5,Nf3,Qe7,Rxd5,Bxd5,Nf6+,Kg7,b3,Bxf3,gxf3,Nxe5,Nxh5+,gxh5,Qxe5+,Qf6', 'Rg1+,Kf8,Qxf6', 'https://lichess.org/training/AhrMG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AhT2r', 'Rapid', 'Pawnpusher08', 1973, 'Alafia', 1927, 'd4,Nf6,Nf3,g6,Bf4,Bg7,Nbd2,d6,e3,O-O,Bc4,d5,Bb3,Nbd7,O-O,c5,c4,cxd4,Nxd4,e5,Bg5,exd4,exd4,dxc4,Bxc4,Qb6,Be3,Nh5,Nb3,Re8,Rc1,Nf8,Qf3,Qf6,Qd5,Qe6,Qb5,Qc6', 'Bxf7+,Kxf7,Rxc6', 'https://lichess.org/training/AhT2r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ahTCW', 'Rapid', 'ernbltr', 2080, 'cleisonaluntokarpov', 2021, 'e4,e6,Nf3,c5,c3,Nc6,d4,d5,dxc5,Bxc5,exd5,exd5,Nd4,Nxd4,cxd4,Bb4+,Nc3,Nf6', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/ahTCW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ahTTQ', 'Blitz', 'Widarma', 1824, 'aplus95', 1841, 'e4,g6,d4,Bg7,e5,d6,f4,dxe5,fxe5,Nc6,Nf3,Bg4,Bb5,a6,Bc4,Na5', 'Bxf7+,Kxf7,Ng5+,Ke8,Qxg4', 'https://lichess.org/training/ahTTQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AHUjY', 'Rapid', 'yura1204', 2057, 'maratkostrov', 1901, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bg5,Nbd7,O-O,b5,Bxe6,fxe6,Nxe6,Qb6,Nd5,Nxd5,Qxd5,Qb7,Nc7+,Qxc7', 'Qe6+,Be7,Qxe7#', 'https://lichess.org/training/AHUjY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aHUlU', 'Rapid', 'faitpaslefouwesh', 1808, 'A_RICO', 1781, 'd4,g6,c4,Bg7,Nf3,Nf6,g3,O-O,Bg2,d6,O-O,Nc6,Nc3,Re8,Re1,e5,dxe5,Nxe5,Nxe5,dxe5,Qb3,c6,Bg5,h6,Rad1,Qb6,Qxb6,axb6,Be3,b5,cxb5,cxb5,a3,b4,axb4,e4,Bd4,Re7,Bxf6,Bxf6,Rd8+,Kg7,Bxe4', 'Bxc3,bxc3,Rxe4', 'https://lichess.org/training/aHUlU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aHXcj', 'Blitz', 'Toas', 2035, 'Player-master', 2171, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,g3,Nf6,Bg2,Bb4,Bd2,Nc6,Nf3,O-O,Qe2,d5,O-O,Bxc3,Bxc3,Nxe4,Be1,b5,Rd1,Bb7,c3,f5,Nd2,Rae8,f3,Nf6,Bf2,e5,f4,exf4,Qd3,g6,Bxd5+,Kg7,Bc5,Ne5,Qd4,Nxd5,Bxf8+,Kxf8,gxf4,Nf7,Nb3,Re4,Qc5+,Qxc5+,Nxc5,Ne3,Nxb7,Nxd1,Rxd1,Rxf4,Nc5,a5', 'Ne6+,Ke7,Nxf4', 'https://lichess.org/training/aHXcj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AhxG0', 'Classical', 'luisleal', 1855, 'frank76', 1689, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bc4,Nf6,O-O,Be7,Re1,O-O,c3,Bb7,b4,Qc7,f3,Rfd8,Be3,d5,exd5,cxd5,Bb5,a5,a3,axb4,cxb4,Bxb4,Re2,Be7,Rc2,Qb8,a4,d4,Bf2,Nh5,Nd2,Nf4,Rac1,Rc8,Rxc8+,Bxc8,Ne4,Bb7,Bg3,g5,h4,h6,hxg5,hxg5,Bxf4,gxf4,Qc2,Qc8,Qb1,Qd8,Qd3,Rc8,Ra1,Bxe4,Qxe4,Rc5,Bd3,Bf6,a5,Rxa5,Qh7+,Kf8,Rb1,Bg7,Qe4,Ra8,Qc6,Rb8,Rc1,Kg8,Qe4,Rc8,Qh7+,Kf8,Rb1,Rb8,Ra1,Ra8,Rd1,Qf6,Qe4,Rd8,Qb7,Bh6,Qb4+,Kg7,Qe1,Rh8,Qe4,Bg5,Rc1,Qe7,Qf5,Qf6,Qe4,Re8,Rc6,Qe7', 'Qh7+,Kf8,Qh8#', 'https://lichess.org/training/AhxG0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AI0Df', 'Blitz', 'Eugene-2705', 2029, 'CM nelsoncopa39', 2014, 'b3,e5,Bb2,d6,e3,Nf6,Nc3,Be7,Nge2,O-O,Ng3,c6,Be2,Be6,h3,Nbd7,Bg4,Qc7,Bxe6,fxe6,Nh5,g6,Nxf6+,Nxf6,Qe2,d5,g4,Bd6,O-O-O,b5,f4,a5,f5,a4,fxg6,hxg6,h4,axb3,axb3,Ba3,d3,Qd6,Bxa3,Qxa3+,Kd2,Qd6,g5,Nh5,Rdf1,Ng3,Rxf8+,Rxf8,Qg2,Nxh1,Qxh1,Qb4,Qg2,Qxh4,Kc1,Qf2,Qg4,Qxe3+,Kb2,b4,Qxe6+,Kg7,Na4,Qxg5,Qxc6,d4,Qb7+,Rf7,Qxb4,Qf6,Nc5,g5,Ne4,Qg6,Qc5,Qf5,Nd6,Qf6', 'Ne8+,Kg6,Nxf6', 'https://lichess.org/training/AI0Df');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ai0op', 'Rapid', 'Valery37', 2191, 'gdv2408', 2278, 'e4,c5,c3,Nf6,e5,Nd5,d4,cxd4,Qxd4,e6,Qg4,Nc6,Nf3,g6,Bb5,Bg7,Bxc6,bxc6,O-O,O-O,c4,Nb4,Nc3,Nd3,Qe4,Nxc1,Raxc1,Qc7,Rfe1,Bb7,c5,Ba6,Red1,Rfd8,Qd4,Rab8,b4,Bc8,a4,a6,a5,Qb7,Rb1,Qa7,Na4,Rb5,Nb6,Qc7,Re1,Rf8,Nc4,f6,Nd6,Rb8,Red1,fxe5,Nxe5,Qd8,f4,Qf6,g3,g5,Nxc8,Rbxc8,Qf2,gxf4', 'Nxd7,Qg6,Nxf8', 'https://lichess.org/training/Ai0op');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ai11a', 'Rapid', 'parham360', 1749, 'Pablo01', 1701, 'e4,e6,Nf3,c5,Be2,a6,O-O,Nc6,d3,Nge7,Nbd2,Ng6,Nc4,b5,Ne3,Nd4,Nxd4,cxd4,Ng4,f6,h3,Bb7,Nh2,Bb4,a3,Ba5,b4,Bb6,Bb2,e5,Bh5,Kf7,Bxg6+,hxg6,Qg4,d5,f3,dxe4,fxe4,Bc8,Qf3,Be6,Ng4,Bxg4,Qxg4,Qc8,Qg3,Qe6,Bc1,Rh7,Bg5,Rh5,Bd2,Rc8,Rac1,Bc7,c3,Bb6,Kh1,dxc3,Rxc3,Bd4,Rxc8,Qxc8,Rc1,Qd7,Rf1,Bb2,h4,Bxa3,Bg5,Ke7,Bxf6+,gxf6,Qxg6,Rxh4+,Kg1,Bxb4', 'Qxf6+,Ke8,Qxh4', 'https://lichess.org/training/ai11a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AI4mb', 'Rapid', 'Akinfenwa10', 2065, 'TheHaleguathor', 2128, 'd4,Nf6,f3,d5,e4,dxe4,Nc3,exf3,Qxf3,c6,Bf4,g6,h3,Bg7,O-O-O,Nd5,g4,Nxf4,Qxf4,h5,Bc4,e6,Kb1,b5,Bd3,b4,Ne4,Qe7,Nf3,Ba6,Nd6+,Kf8,Bxg6,Qf6,Qxf6,Bxf6,Bxh5,Be2,Rde1,Bxf3,Rhf1,Ke7,Rxf3,Bh4,Rxf7+,Kxd6,Ref1,Nd7,c4,bxc3,bxc3,Raf8,c4,Rxf7,Rxf7,Rf8,c5+,Kc7,Rg7,Bf2,Bf7,Bxd4,Rh7,Nf6,Rg7,Ne4,Rh7,Ng5,Rh6,Rxf7,Rg6,Be3,h4,Ne4,Rxe6,Nxc5,Rxe3,Rf4,Rg3,Ne4,Rg2,Nf6,g5,Rg4,Rf2,Nd5,Rf7+,Kb6,Rh7,Nf4,Rh6,Ng2,g6,Rxh4', 'Rxh4,Nxh4,g7,Nf5,g8=Q', 'https://lichess.org/training/AI4mb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ai4sF', 'Rapid', 'belenuga', 1767, 'Cauua', 1816, 'd4,d5,c4,e6,Nf3,Nf6,a3,dxc4,Nc3,a6,e4,b5,e5,Nfd7,b3,cxb3,Qxb3,Bb7,Qd1,Nb6,Bg5,Be7,Bxe7,Qxe7,Be2,O-O,Bd3,Nd5,Nxd5,Bxd5,h4,Nc6,Bxh7+,Kxh7,Ng5+,Kg8', 'Qh5,Be4,Nxe4', 'https://lichess.org/training/Ai4sF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ai6ND', 'Rapid', 'Rsade', 1712, 'Pthaloskies', 1630, 'd4,c6,e4,d5,e5,e6,Bd3,Ne7,f4,Nf5,c3,Be7,Nf3,O-O,O-O,b6,Ng5,h6,Nh3,Bh4,Nd2,c5,Nf3,Be7,g4,c4,Bc2,Nc6,gxf5,exf5,Kh1,b5,Rg1,b4,Qf1,Rb8,Bd2,a5,Qg2,g6,Rae1,a4,Bxa4,Qc7,b3,bxc3,Bxc3,Nb4,Bxb4,Bxb4,Rc1,c3,Nh4,Rb6,Qxd5', 'Bb7,Qg2,Bxg2+', 'https://lichess.org/training/Ai6ND');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ai761', 'Blitz', 'CopalCapital', 1530, 'adham130', 1515, 'c4,e5,g3,Nc6,Bg2,Nf6,Nc3,Bc5,a3,d6,e3,Bf5,Nge2,Qd7,b4,Bb6,O-O,O-O-O,e4,Bg4,Rb1,Nd4,d3,h5,Be3,h4,Bxd4,exd4,Nd5,hxg3,fxg3,a5,Qd2,axb4,axb4,Kb8,Nxb6,cxb6,Nxd4,Qe7,Rb2,Qe5,Nb5,Rh6,Ra2,Rdh8,Rfa1,Kc8,Ra8+,Kd7,Rxh8,Rxh8,Qe3,Qxa1+,Kf2,Qa2+,Kg1,Qb1+,Bf1,Bh3,Qf2,Ng4', 'Qxf7+,Kd8,Qc7+,Ke8,Nxd6+,Kf8,Qf7#', 'https://lichess.org/training/Ai761');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AI9Nd', 'Rapid', 'paramirez', 1653, 'Jasur1111', 1716, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,d6,Qb3,Qd7,Nd2,Nf6,Ngf3,Be7,Bxf7+,Kf8,Bc4,a6,O-O,Nc6,Bc3,Ne5,Nxe5,dxe5,Nf3,Bd6,Nxe5,Bxe5,Bxe5,Qe7,Bxf6,Qxf6,Rad1,Bg4,Qxb7,Re8,Rc1,Qe7,Bxa6,Be6,Rxc7,Qf6,a4,h6,Bb5,Rd8,a5,Kg8,a6,Kh7,a7,Rhf8,Bd3,Kh8,Bc4,Bxc4,Rxc4', 'Qxf2+,Rxf2,Rd1+,Rf1,Rdxf1#', 'https://lichess.org/training/AI9Nd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AI9YP', 'Blitz', 'Dioqss', 1993, 'amir_ali7', 1953, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e5,Nb3,a6,a4,Nf6,Nc3,Nc6,Be3,Be7,f3,Be6,Nd5,O-O,Bb6,Qd7,a5,Bxd5,exd5,Nd8,Qd2,e4,fxe4,Nxe4,Qd3,Bh4+,g3,Re8,Be2,Qe7,Nd4,Rc8,O-O,Bg5,Rae1,Nc5,Qf3,Qf6,Qg4,Be3+,Kg2,Qxd4,Qxc8,Qxd5+,Bf3,Qg5,Bxc5,dxc5,Rd1,h5,Rd5,Qe7,Rd7,Qe5,Bd5,Qxb2,Bxf7+,Kh8,Bxe8,Qxc2+,Kh3,g5,Qxd8', 'g4+,Kh4,Qxh2#', 'https://lichess.org/training/AI9YP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AiAjR', 'Rapid', 'carpan', 1981, 'shardulme', 1873, 'e4,b6,Nf3,Bb7,Nc3,e6,Bc4,Bb4,d4,Bxc3+,bxc3,Bxe4,O-O,Nf6,Re1,O-O,Ng5,Bg6,Bd3,Bxd3,Qxd3,h6,Nh3,d6,Qg3,Kh8,Qf3,Nbd7,Nf4,d5,Re3,Rc8,Qh3,c5,Rg3,Ne4,Nh5,Nxg3,Qxg3,Rg8,Bf4,Nf6,Qf3,Nxh5,Qxh5,Qf6,Be5,Qg6,Qh4,cxd4,Bxd4,Qxc2,Qxh6+,Qh7,Qg5,f6,Qg4,e5,a4,exd4,cxd4,Rge8,g3,Rc2,Ra3,Re1+,Kg2,Qe4+,Kh3,Qxg4+,Kxg4,Rxf2,Rc3,Re4+,Kh5,Rf5+,Kg6,Rg5+,Kf7,Rxd4,g4,Rdxg4', 'Rh3+,Rh4,Rxh4+,Rh5,Rxh5#', 'https://lichess.org/training/AiAjR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aIbhJ', 'Classical', 'VVNARANGAVARMA', 1641, 'Kyneburgha', 1690, 'd4,d5,c4,dxc4,e3,Nf6,Bxc4,Nc6,Nc3,e6,Nge2,Bd6,O-O,a6,Bd2,b5,Bd3,Bxh2+,Kxh2,Ng4+,Kg3,Qg5,f3', 'Nxe3+,Kf2,Nxd1+', 'https://lichess.org/training/aIbhJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AiBpL', 'Classical', 'Libelloy', 1817, 'atulpawar26', 1839, 'e4,c5,Nf3,d6,c3,Nf6,e5,dxe5,Nxe5,Nbd7,Qa4,a6,Bb5,axb5,Qxa8,Nxe5,Qb8,Nc6,Qg3,Bf5,O-O,Bd3,Re1,e6,Na3,Bd6,Qh3,g5,Re3,c4,Nxb5,Bc5,Re1,Qb6,Rxe6+,fxe6,Qxe6+,Be7', 'Nd6+,Kf8,Qf7#', 'https://lichess.org/training/AiBpL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AICO2', 'Blitz', 'Primmus__Maximus', 1754, 'brenodiogo', 1776, 'e4,Nf6,Nc3,Nc6,Nf3,d6,d4,Bg4,Be3,g6,Be2,Bg7,h3,Bxf3,Bxf3,O-O,Qe2,Nb4,O-O-O,e5,dxe5,Nd7,exd6,Bxc3,bxc3,Nxa2+,Kb2,Nxc3,Kxc3,Ne5,dxc7,Qxc7+,Kb2,Nc4+,Kc1,a5,Bd4,a4,Qd3,a3,c3,Nb2,Qb1,a2,Qa1,Ra4,Kxb2,Rc8,Rc1,Rxd4,cxd4', 'Qb6+,Kxa2,Ra8#', 'https://lichess.org/training/AICO2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AiCPm', 'Blitz', 'dada1987', 1959, 'FM aaryan_varshney', 2189, 'd4,Nf6,Nc3,e6,e4,d5,Bg5,dxe4,Nxe4,Be7,Bxf6,Bxf6,Nf3,O-O,Bd3,Nd7,c3,b6,Qe2,Bb7,O-O-O,Qe7,h4,c5,Nfg5,h6,Nf3,cxd4,cxd4,Rac8+,Kb1,Qb4,g4,Bd5,g5,Be7,gxh6,Qa5,b3,Nf6,hxg7,Rfd8,Ne5,Bxe4,Bxe4,Qc3,h5,Nxe4,Qxe4,Ba3,Qe2,Rxd4,Rxd4', 'Qc1+,Rxc1,Rxc1#', 'https://lichess.org/training/AiCPm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aIefG', 'Rapid', 'tober2000', 1810, 'CeXtreme', 1980, 'e4,e5,Nf3,Nf6,Bc4,Bc5,Nxe5,Nc6,Nxf7,Qe7,Nxh8,Bxf2+,Kxf2,Nxe4+,Kf1,Qc5,Bf7+,Kd8,Qe2,d5,h3', 'Ng3+,Ke1,Nxe2', 'https://lichess.org/training/aIefG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aIFaY', 'Rapid', 'Ferboro', 1970, 'Aligh1364', 1964, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,d6,d4,exd4,Nxd4,Bd7,O-O,Be7,Nxc6,Bxc6,Bxc6+,bxc6,Bg5,O-O,h3,Nd7,Bxe7,Qxe7,Re1,f6,Qe2,Qf7,Rad1,Rab8,b3,Nc5,Nb1,a5,Nd2,a4,Qc4,axb3,Qxf7+,Kxf7,axb3,Ra8,Nc4,Ra2,Re2,Nxb3,Rb1,Nd4,Rd2,c5,Rb7,Rxc2,Rxc2,Nxc2,Nxd6+,Ke6,Nf5,Rf7,Kf1,Nd4,Ne3,c6,Rxf7,Kxf7,Ke1,Ke6,Kd2,Ke5,Kd3,Ne6,Nc4+,Kf4,Nd2,Kg5,Kc4,Kf4,Kd3,Ng5', 'g3+,Ke5,f4+,Ke6,fxg5', 'https://lichess.org/training/aIFaY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aIFd3', 'Rapid', 'SpasticBanana', 2072, 'halir', 1947, 'c4,Nf6,Nc3,e5,g3,d6,Bg2,Nc6,e3,Be7,Nge2,O-O,d4,exd4,exd4,Bg4,h3,Bh5,O-O,h6,Be3,Nh7,Qd2,Ng5,Qc2,Qd7,Nf4,Bg6,Nxg6,fxg6,h4,Nf3+,Bxf3,Rxf3,Kg2,Qg4,Nd5,Bxh4,Bf4,Nxd4,Qd2,Nf5,Ne3,Nxe3+,Bxe3,Bxg3', 'Qd5+,Rf7,fxg3', 'https://lichess.org/training/aIFd3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aig15', 'Rapid', 'paulo-casagrande', 1947, 'Eric_Walton', 1996, 'e4,c5,Nf3,a6,a3,Nc6,Bc4,e6,d3,d6,O-O,Nf6,h3,Be7,Nh2,Ne5,Ba2,O-O,f4,Ng6,Ng4,b5,Nxf6+,Bxf6,c3,Bb7,Qg4,b4,axb4,cxb4,f5,Ne5,Qe2,exf5,Rxf5,Bc8,Rf1,Bg5,Nd2,bxc3,bxc3,Qb6+,d4,Bd7,Nc4,Nxc4,Bxg5,d5,Bxc4,dxc4,e5,Qg6,Qe3,h6,Bf4,Bf5,Rf3,Qe6,Rg3,Kh7,Qf2,Rab8,Rf1,Bd3,Re1,Rb1,Rxd3', 'Rxe1+,Qxe1,cxd3', 'https://lichess.org/training/aig15');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aih1X', 'Classical', 'LeonardoSilva', 1939, 'ghassanooov', 1973, 'f4,e6,Nf3,d5,e3,c5,Be2,Nc6,O-O,Nf6,b3,a6,Bb2,b5,a4,Bb7,axb5,axb5,Rxa8,Bxa8,Bxb5,Qb6,Be2,Be7,Nc3,O-O,Na4,Qa7,Ne5,Nxe5,fxe5,Ne4,d4,cxd4,Bxd4,Qa5,Bd3,Ng5,Qh5,g6,Qh6,Rc8,h4,Ne4,h5', 'Bg5,Qxg5,Nxg5', 'https://lichess.org/training/aih1X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AIhBL', 'Rapid', 'Kurznoppe', 1963, 'Abanob_fawzy', 1877, 'd4,e6,c4,d5,Nc3,c6,Nf3,Nf6,Bg5,Be7,e3,h6,Bh4,O-O,Bd3,a6,a4,Nbd7,O-O,Nb6,cxd5,exd5,a5,Nbd7,Bc2,c5,b3,b6,axb6,Qxb6,Na4,Qc7,Qd3,c4,bxc4,dxc4,Qe2,Re8,Rfc1,Bb7,Bb3,Bxf3,Qxf3,Bd6,Rxc4,Qb8,Rb1,Bxh2+,Kh1,Bd6,Rc6,Be7,Bxf7+,Kxf7,Rxb8,Raxb8,Bxf6,Bxf6,e4,Kg8,e5,Bxe5,dxe5,Nxe5,Qd5+,Kh8,Rxa6,Ng4,g3,Nxf2+,Kg2,Ng4,Kh3,Nf2+,Kg2,Ng4,Ra7', 'Ne3+,Kh3,Nxd5', 'https://lichess.org/training/AIhBL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AiHRh', 'Blitz', 'Fl4sh2012', 1767, 'DarkAngel07', 2009, 'e4,c5,Nf3,Nc6,c3,d5,exd5,Qxd5,d4,Bg4,Be2,Nf6,c4,Qd6,d5,Bxf3,Bxf3,Nd4,Be3,Qe5,Nc3,g6,O-O,Bg7,Re1,Nxf3+,Qxf3,Qd6,Bf4,Qd7,Nb5,O-O,Nc7,Rac8,Nb5,a6,Nc3,b5,cxb5,axb5,Rad1,b4,Ne4,Nxd5', 'Rxd5,Qxd5,Nf6+,Bxf6,Qxd5', 'https://lichess.org/training/AiHRh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aIKPB', 'Blitz', 'Wobli', 2049, 'Jelgavnieks', 2048, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nxf7,Kxf7,Nc3,Be7,Bc4+,Be6,Bxe6+,Kxe6,O-O,Kf7,f4,Rf8,e5,Nfd7,e6+,Kxe6,Qh5,Nf6,Qb5,Qc8,Qb3+,Kd7,d4,c6,f5,d5,Na4,Kc7,Nc5,Bxc5,dxc5,Nbd7,Bf4+,Kd8,Bd6,Rf7,Rae1,b6,cxb6,Nxb6,Re6,Qd7,Rfe1,Ne4,g4,Nxd6,Qh3,h6,b3,Kc7,a4,Re8,a5,Nbc8,Qg3,Kb7,a6+,Kxa6,Qd3+,Kb7,c4,Rxe6,fxe6,Qe7,cxd5,Rf4,dxc6+,Kxc6,h3,Nb6,Qc3+,Kb7,Rc1,Qxe6,Qc6+,Ka6', 'Ra1+,Ra4,Rxa4#', 'https://lichess.org/training/aIKPB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aiMhr', 'Rapid', 'sana1979', 1719, 'an2rey75', 1739, 'f4,d5,d4,e6,e3,Ne7,Nf3,g6,Be2,Bg7,O-O,O-O,a3,b6,b4,Bb7,c4,Nd7,Ne5,Nxe5,fxe5,Nf5,c5,bxc5,bxc5,a5,a4,Ba6,Bb5,Qb8,Nc3,Rc8,Bxa6,Rxa6,Nb5,c6,Nd6,Nxd6,cxd6,c5,Bd2,cxd4,exd4,Rc4,Be3,Rac6,Rb1,Qa7,Rb5,Rb4,Rc5,Rxc5,dxc5,Bxe5,Qf3,Rxa4,Bg5,Qxc5+', 'Be3,Qxe3+,Qxe3', 'https://lichess.org/training/aiMhr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aIMNL', 'Blitz', 'PaulAlex', 1876, 'alexdem', 1875, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Bd7,Bc4,Nc6,O-O,Be7,f4,O-O,Nf3,Bg4,Qd3,Nb4,Qe2,a6,a3,b5,Bxf7+,Rxf7,axb4,c5,bxc5,dxc5,Be3,b4,Na4,Qc7,Qc4,Nd7,Ng5,Rf8,Nxf7,Rxf7,Qxa6,Nf6,Qa8+,Rf8,Qa6,Nxe4,Qc4+,Kh8,Qxe4,Bf5,Qc4,Qc6,Nxc5,h6,b3,Rc8,Nd3,Qg6,Qd4,Be4,g3,Rd8,Qa7,Bh4,Ne5,Qg4,Nf7+,Kh7,Nxd8,Qh3,Rf2,Bxg3,Raf1,Bxh2+,Rxh2', 'Qg3+,Rg2,Qxg2#', 'https://lichess.org/training/aIMNL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AIMwn', 'Rapid', 'pepon1000', 1740, 'kyanite1', 1796, 'd4,f5,c4,Nf6,Nc3,g6,Bf4,Bg7,Nf3,d6,e3,Nc6,a3,e6,Be2,Qe7,O-O,Bd7,Qb3,O-O-O,a4,e5,dxe5,dxe5,Bg5,h6,Bxf6,Bxf6,a5,a6,Nd5,Qg7,c5,Be6,Nb6+,cxb6,Qxe6+,Kb8,cxb6,e4,Nd4,Nxd4,exd4,Bxd4,Rab1,Bxb2,Qc4,Rc8,Qb3,Bc3,Rfc1,Bxa5,Rxc8+,Rxc8,Qe6,Bd2,Bxa6,Qd4,Bf1,Ba5,h3,Bc3,Qxg6,Qf6,Qh5,Bd4,Qd1,Bxb6,Qb3,Rc6,Ra1,Qd4,Qg8+,Kc7,Qf7+,Kd6,Qg6+,Kd5,Qxf5+,Kd6,Qf4+,Kd7,Qg4+,Kd6', 'Rd1,Qxd1,Qxd1+', 'https://lichess.org/training/AIMwn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aInTw', 'Classical', 'ghasemsinger', 1870, 'miqtf', 1919, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d6,O-O,Bg4,c3,b5,Bb3,Nf6,Re1,Be7,d4,Bh5,d5,Na5,Bc2,Nc4,Nbd2,Nb6,b3,c5,dxc6,Rc8,Bb2,O-O,a4,bxa4,bxa4,Rxc6,Qe2,Nbd7,Red1,Qb6,Rab1,Rb8,Nc4,Qc5,Bd3,Qa7,Ba3,h6,Bc2,Rxb1,Bxb1,Qc7,Ba2,Nb6,Nxb6,Qxb6,c4,Qc7,Rb1,Bf8,h3,Nd7,g4,Bg6,Nh4,Bh7,Nf5,Bxf5,gxf5,Nb6,f6,Nxa4,fxg7,Bxg7,Rc1,Nc5,Rc3,Ne6,Rg3,Qd8,Qg4,Qg5,Qe2,Qf6,Bc1,Qh4,Kh2,Nf4,Qf3,Kh8,Rg4,Qf6,Bxf4,exf4,Rxf4', 'Qxf4+,Qxf4,Be5,Kg2,Bxf4', 'https://lichess.org/training/aInTw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AInzo', 'Rapid', 'xa6a', 1964, 'aeurum', 1858, 'b3,c5,Bb2,e6,g3,d5,Bg2,Nc6,d3,Bd7,e3,Qe7,Nf3,O-O-O,Nc3,a6,Qd2,Nf6,O-O-O,g6,Kb1,Bh6,Na4,Be8,Ne5,Rf8,Nxc6,Bxc6,Be5,Kd7,Nb6+,Ke8,h3,Nd7,Nxd7,Rxd7,g4,f6,Bb2,b5,Qa5,Ra7,Qb6,Qc7,Qxc7,Rxc7,f4,Bg7,g5,f5,c4,Bxb2,Kxb2,dxc4,Bxc6+,Rxc6,dxc4,Ke7,cxb5,axb5,Rd3,Rd8,Rhd1,Rcd6,Rxd6,Rxd6,Rxd6,Kxd6,Kc3,Kd5,a4,bxa4,bxa4,Kc6,a5', 'Kb5,Kb3,Kxa5,Kc4,Kb6,h4,Kc6', 'https://lichess.org/training/AInzo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aiOKy', 'Rapid', 'vip128', 1912, 'KemalK', 1918, 'e4,c5,Nf3,Nc6,c3,e5,Bb5,d6,h3,Nf6,d3,a6,Ba4,b5,Bc2,b4,Bg5,Be7,Ba4,Bd7,a3,Qb6,axb4,cxb4,O-O,a5,Nbd2,O-O,Nc4,Qb8,Bxc6,Bxc6,Rxa5,bxc3,bxc3,Rd8,Rxa8,Qxa8,Qc2,Bb5,Nb2,h6,Bxf6,Bxf6,Nd2,d5,exd5,Qxd5,c4,Rc8,Re1,Qd4,Nf3,Qf4,Re4,Qf5,Qe2,Bc6,Nh4,Bxh4,Rxh4,Qg5,Rg4,Qc1+,Kh2,f6,Nd1,h5,Rg3,h4,Re3,Ra8,Qh5,Ra1,Re1,Qd2,Rg1,Rxd1,Rxd1,Qxf2,Qg4,f5,Qg5,f4,Ra1,f3,Rg1,fxg2,Qg6', 'Qf4+,Qg3,hxg3#', 'https://lichess.org/training/aiOKy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AiowL', 'Bullet', 'rognvaldurmoller', 2103, 'khorneberzerker', 1981, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Bc4,Qb6,Nde2,e6,Bb3,a5,Be3,Qd8,a4,Nb4,O-O,Be7,Ng3,O-O,f4,Bd7,f5,Rc8,Qf3,Na6,Nh5,Nc5,Bxc5,Rxc5,Nxf6+,Bxf6,Qg4,exf5,exf5,Bxc3,bxc3,Qf6,Rad1,Bxf5,Qg3,Rd8,Rd4,Qg6,Qf3,Be6,Bxe6,Qxe6,Re4,Re5,Rf4,Rd7,Qd3,Re3,Qb5,Re2,Qxa5,Qe3+,Kh1,Qxf4', 'Qa8+,Rd8,Qxd8+,Re8,Qxe8#', 'https://lichess.org/training/AiowL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AipJ1', 'Rapid', 'OKALE', 1697, 'dubac___3', 1718, 'e4,b6,d4,g6,Nf3,Bg7,Bc4,Bb7,Bd3,e6,c4,Ne7,Nc3,Nbc6,Be3,O-O,Qd2,Nb4,Bb1,f5,a3,Nbc6,Bh6,fxe4,Bxg7,Kxg7,Nxe4,Na5,Qg5,Nf5,Qg4,Nxc4,Nfg5,h6,Nf3,Nxb2,Ng3,Qf6', 'Nh5+,Kh7,Nxf6+', 'https://lichess.org/training/AipJ1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AIqOm', 'Blitz', 'Vidarius', 1509, 'K4051132', 1507, 'c4,Nf6,Nf3,e6,e3,c6,b3,d5,Bb2,Be7,Nc3,Nbd7,d4,h6,Bd3,a6,a4,b5,axb5,cxb5,cxb5,a5,O-O,Bb7,Ne5,Nxe5,dxe5,Nd7,f4,O-O,Rf3,d4,Rh3,dxc3,Bxc3,f6,Qg4,f5,Qg3,Kh7,Bc4,Bd5,Bxd5,exd5,e6,Nf6,Be5,Rg8,Rc1,Qb6,Rc7,Qxe6,Bxf6,Bxf6,Qf3,d4,Rc6,Qxb3,Rxf6,gxf6,Qb7+,Kg6,Rg3+,Kh5,Rh3+,Kg4,Rg3+,Kh4', 'Rh3+,Kg4,Qf3#', 'https://lichess.org/training/AIqOm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aiRgK', 'Blitz', 'WFM zeldol', 2225, 'WFM Joqueen90', 2143, 'e4,c5,Nf3,Nc6,Bb5,g6,O-O,Bg7,c3,e5,Na3,Nge7,Nc2,O-O,d4,cxd4,cxd4,exd4,Ncxd4,Nxd4,Nxd4,Qb6,Be3,Bxd4,Qxd4,Qxb5,Bh6,f6,Bxf8,Kxf8,Qxf6+,Ke8,Qh8+,Kf7,Qxh7+,Kf8,Rad1,Qxb2,Rd3,d5,Rf3+,Ke8,Qf7+,Kd8,Qf8+,Kd7,Rf7,Qe5,exd5,Kd6,Rf6+,Kxd5,Rd1+,Kc5,Rf7,Bg4,Rc1+,Kb6,Qxa8,Qb2,Qd8+,Ka6,Rf6+,b6,Qd3+,Ka5,Qc3+,Qxc3,Rxc3,Nd5,Ra3+,Kb4,Rxg6,Nc3,Rxg4+,Kxa3,Rg3,Kb2,h4,b5,Rxc3,b4,h5', 'bxc3,Kh2,c2,h6,c1=Q', 'https://lichess.org/training/aiRgK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aIrv0', 'Rapid', 'RABueno_Dagami_30', 1866, 'Jan_V_Cabidoy_DULAG', 2096, 'd4,d5,Nc3,c6,Bf4,Nd7,e3,g6,Be2,Bg7,Nf3,Ngf6,h3,O-O,Ne5,Ne8,g4,f6,Nxd7,Bxd7,h4,e5,dxe5,fxe5,Bg3,Qb6,Na4,Qa5+,c3,Rd8,Qb3,Kh8,g5,c5,h5,gxh5,Rxh5,Bxa4,Qa3,d4,Bd3,dxe3,Bxh7,exf2+,Kf1,Rd1+,Rxd1,Bxd1,Qxa5', 'Be2+,Kxe2,f1=Q+', 'https://lichess.org/training/aIrv0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aIsbB', 'Rapid', 'IRON-71', 1915, 'kchaliki', 1988, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,Nf3,Nd7,h5,Bh7,Bd3,Bxd3,Qxd3,e6,Bf4,Ngf6,O-O-O,Be7,Ne4,Nxe4,Qxe4,Nf6,Qe2,O-O,c4,Qa5,Kb1', 'Qf5+,Ka1,Qxf4', 'https://lichess.org/training/aIsbB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aItnF', 'Blitz', 'christobak', 1663, 'Galdosiano', 1703, 'e4,c5,f4,Nc6,Nf3,Nf6,e5,Nd5,Nc3,Nxc3,bxc3,d6,Bb2,dxe5,fxe5,Bg4,Bb5,Qb6,c4,a6,Bxc6+,Qxc6,O-O,e6,Qe2,Rd8,h3,Bh5,d3,Be7,Qf2,O-O,d4,cxd4,Nxd4,Qxc4,Qh4,Bg6,Qxe7,Rxd4,Bxd4,Qxd4+,Kh1,Qxe5,Rac1,Qd5,c4,Qc6,Rf2,b5,c5,a5,Rd2,h6,Rd6,Qe4,Rd8,Rxd8,Qxd8+,Kh7,c6,Qe3,Rd1,Be4,c7', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/aItnF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aIUox', 'Rapid', 'OneDarkNight', 2145, 'Aryanvig', 2089, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,e5,dxc3,exf6,Qxf6,Nxc3,Ne5,Nxe5', 'Qxf2#', 'https://lichess.org/training/aIUox');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aiV3e', 'Rapid', 'Maksimon', 2051, 'ivangrad', 2017, 'e4,c6,d4,d5,e5,Bf5,g4,Bg6,h4,h5,e6,hxg4,Bd3,Bxd3,Qxd3,Nf6,h5,fxe6,Bf4,Kd7,f3,Qb6,Nc3,Rxh5,Rxh5,Nxh5,Be5,g3,O-O-O,Nf6,f4,c5,f5,c4,fxe6+,Qxe6,Qxg3,Nc6,Re1,Qf5,Nf3,Nb4,Qg2,Nxc2,Qxc2,Qxf3,Qa4+,Kd8,Qb5,b6,Bxf6,gxf6,Nxd5,Bh6+,Kb1,Qd3+,Ka1,Qd2,Rh1,Qxd4,a3,a6,Qc6,Rc8,Qe6,Bf8,Ne3,Qd6', 'Rd1,Qxd1+,Nxd1', 'https://lichess.org/training/aiV3e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AIV4L', 'Blitz', 'wdhorton', 1663, 'Aswinalex1234', 1632, 'd4,d5,Bf4,Nc6,c3,Bf5,e3,Nf6,Bd3,Ne4,Nd2,e6,Ngf3,Bd6,Ne5,Ne7,Qe2,Ng6,Bg3,Nxg3,hxg3,Bxd3,Nxd3,c6,O-O-O,Qa5,Kb1,b5,f4,b4,Nxb4,Bxb4,cxb4,Qxb4,Nb3,a5,Nc5,a4,a3,Qb6,e4,O-O,Qh5,h6,f5,Rfb8,Rd2,exf5,Nd7,Qa5,Nxb8,Qxd2,Nd7,fxe4,Nf6+,Kh8,Nd7,Qxd4,Qf5,e3,Qxf7,Qd3+,Ka1,Kh7', 'Nf6+,Kh8,Rxh6+,gxh6,Qh7#', 'https://lichess.org/training/AIV4L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aIXKJ', 'Rapid', 'GreenDjinn10', 1915, 'Moshiso', 1943, 'e4,c5,Nf3,d6,Bc4,e6,Nc3,Bd7,d4,cxd4,Nxd4,Nf6,O-O,e5,Nf5,a6,Bg5,Bb5,Nxb5,axb5,Bxb5+,Nc6,a4,g6,Nh6,Bxh6,Bxh6,Ke7,Bg7,Rg8,Bh6,Nd4,c3,Nxb5,axb5,Rxa1,Qxa1,Nxe4,Re1,f5', 'Rxe4,fxe4,Bg5+', 'https://lichess.org/training/aIXKJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AIYEv', 'Rapid', 'LeanChess', 1668, 'dondenis', 1643, 'e4,e5,f4,exf4,Nf3,Bd6,Bc4,f6,O-O,Nc6,Nc3,Ne5,d4,Nxc4,e5,fxe5,dxe5,Bc5+,Kh1,Ne3,Bxe3,Bxe3,Nd5,Ne7,Ng5,Nxd5,Qxd5,Qxg5,Rae1,c6,Qd6,Qe7,Qd3,O-O,g3,Qxe5,gxf4,Rxf4,Rxf4,Qxf4,Rxe3,d5,Re8+,Kf7,Re3,Bh3', 'Rf3,Qxf3+,Qxf3+', 'https://lichess.org/training/AIYEv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AiYIR', 'Rapid', 'lara1969', 1655, 'rickiroll', 1705, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bb6,c3,d6,h3,Nf6,d3,h6,Qb3,O-O,Be3,a5,O-O,a4,Qc2,Be6,a3,Nh5,Ba2,Qf6,Nbd2,Qg6,Nh4,Qh7,Bxb6,cxb6,Qd1,Nf4,Qf3,g5,Nf5,Bxf5,exf5,Qxf5,g3,Nxh3+,Kg2,Qxf3+,Nxf3,g4,Nh4,Ne7,f3,h5,fxg4,hxg4,Nf5,Nxf5,Rxf5,Kh7,Raf1,Kg7,Bd5,f6,Bxb7,Ra7,Bd5,Ng5,Rh1,Rh8,Rxh8,Kxh8,Rxf6,Rd7,Bc6,Rd8,Rh6+,Kg7,Rh4,Kf6,Rxg4,Rc8,b5,d5,c4,dxc4,Rxc4,Rd8,Rc3,Ne6,Be4,Nc5,g4,Kg5,Kg3,Rd4,Bf5,e4,dxe4,Rxe4,Rf3,Re1,Bc8,Ne4+,Kg2,Re2+,Kf1,Rc2,Rf5+,Kh6,Bb7', 'Ng3+,Ke1,Nxf5', 'https://lichess.org/training/AiYIR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Aj0rS', 'Blitz', 'JayFortunado', 2195, 'goap', 1966, 'd4,Nf6,Nf3,g6,Nc3,Bg7,e4,d6,Bc4,O-O,Qe2,c6,Bg5,h6,Bh4,Bg4,O-O-O,b5,Bb3,a5,a4,b4,Nb1,Qc7,h3,Bxf3,gxf3,g5,Bg3,Nh5,e5,dxe5,Bxe5,Bxe5,dxe5,Nf4,Qe4,Nd7,Rdg1,Qxe5,Qxe5,Nxe5,Re1,Nxf3,Rxe7,Rfe8', 'Bxf7+,Kf8,Rxe8+,Rxe8,Bxe8', 'https://lichess.org/training/Aj0rS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aj1CZ', 'Blitz', 'Pertrossiann', 1782, 'angelalbertomv', 1708, 'd4,d5,Bf4,e6,Nf3,Bd6,e3,Bxf4,exf4,f5,Ne5,Nd7,Qh5+,g6,Nxg6,Ngf6,Qh6,Rg8,Ne5,Qe7,Nd2,b6,O-O-O,Bb7,Bb5,O-O-O,Ndf3,Nxe5,Nxe5,Ne4,Nd3,Rxg2,Rhe1,Rdg8,f3,Nf2,Nxf2,Rxf2,Rxe6,Qb4,Bd3,Rfg2,Bxf5,Rxc2+,Bxc2,Kb8,Rde1,Rg2,Re8+,Bc8,Qe6', 'Qd2+,Kb1,Qxc2+,Ka1,Qxb2#', 'https://lichess.org/training/aj1CZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aJ1hn', 'Rapid', 'horest', 1927, 'p_munandar_p', 1876, 'e4,d6,d4,c6,Nc3,Nf6,Bc4,d5,exd5,Nxd5,Qf3,e6,Nge2,Bb4,O-O,Bxc3,Nxc3,Nxc3,Qxc3,O-O,Bf4,Nd7,Rad1,Qf6,Qg3,Nb6,Bd3,Nd5,Be5,Qh6,c3,f6,Bd6,Rd8,Ba3,Nf4,b4,Rd5,Bc1,e5,Bc4,Be6,Rfe1,Rd6,Bxe6+,Rxe6,dxe5,fxe5,Rd7,Rg6,Bxf4,exf4,Qd3,Rf8,f3,Qg5,Re2,Rh6,Rd6,Rh5,Qc4+,Kh8,Qe6,Qh4,h3,Qg3,Rd7,Rhf5,Re5,Rxe5,Qxe5,Qg6,Qe7,Re8,Qd6', 'Re1+,Kf2,Qg3#', 'https://lichess.org/training/aJ1hn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Aj3Nb', 'Rapid', 'Alekhine5005', 1846, 'joekeres', 1852, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Bd3,Bxd3,Qxd3,Nd7,Ng5,Be7,Nxh7,g6,Nf6+,Ngxf6,exf6,Nxf6,Bf4,Bd6,Be5,Bxe5,dxe5,Nd7,f4,Qb6,Nc3,O-O-O,O-O-O,Nc5,Qf3,d4,Ne4,Na4,Qa3,Nc3,bxc3,dxc3,Qxc3,Rd5,Rxd5,exd5,Nd6+,Kb8,Nxf7,Rf8,e6,d4,Qd3,Qb4,h4,c5,e7,Re8,g4,Rxe7,Ne5,Kc7,h5,gxh5,gxh5,Re6,Qb3,Qxb3,axb3,Rh6,Kd2,b5,Ng6,Kd7,Kd3,Ke6,Ke4,a5,f5+,Kf6,Ne5,Rh7,Nd3,c4,bxc4,bxc4,Nb2,c3,Na4,Kg5,Kxd4,Kxf5,Kxc3,Kg5,Kc4,Rc7+,Nc5,Kh6,Kb5,a4,Nxa4,Rxc2,Nc5,Rb2+,Kc6,Rg2,Ne6,Rc2+,Kd7,Rd2+,Ke7,Re2,Kf7,Rf2+,Kg8,Rf5,Ng7,Rg5,Kh8,Rxg7,Re1,Ra7,Re5', 'Ra8+,Re8,Rxe8#', 'https://lichess.org/training/Aj3Nb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aJ530', 'Rapid', 'Tatarana', 1668, 'mh1347', 1741, 'd4,d5,c4,Bf5,Nc3,Nc6,Qb3,dxc4,Qxc4,Nxd4,e4,Nc2+,Ke2,Be6', 'Qa4+,Bd7,Qxc2', 'https://lichess.org/training/aJ530');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AjADc', 'Rapid', 'chapavol', 2000, 'Apoorv712', 1929, 'c4,c5,Nc3,Nc6,d3,Nf6,g3,e6,Bg2,b6,Nb5,a6,Nc3,Bb7,Nf3,Be7,O-O,O-O,Bf4,d5,cxd5,exd5,Ne5,Nxe5,Bxe5,Qd7,e4,dxe4,Nxe4,Nxe4,dxe4,Qxd1,Raxd1,Rad8,Bc7,Rxd1,Rxd1,b5,Rd7,Bf6,Bd6,Rd8,Rxd8+,Bxd8,e5,Bxg2,Kxg2,c4,Kf3,f6,Ke4,fxe5,Bxe5,Bf6,Bxf6,gxf6,Kd5,Kf7,Kc6', 'b4,Kc5,c3', 'https://lichess.org/training/AjADc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ajADx', 'Rapid', 'C-J-M', 1676, 'thormma2012', 1676, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,Bb5,a6,Bxc6+,bxc6,O-O,a5,Be3,Ne7,Bg5,Qb6,dxc5,Qxb2,Nbd2,Ba6,Re1,Nf5,Nb3,Qa3,Bc1,Qb4,Bd2,Qb5,Bxa5,Bxc5,Nxc5,Qxa5,Nxa6,Rxa6,Ng5,h6,Nxe6,fxe6,Qh5+,Kf8,Qf3,Kg8,Reb1,Kh7,Qd3,c5,c3,c4,Qc2,g6,Rb7+,Ng7,h4,h5,g4,Ra7,gxh5,Rxb7,Qxg6+,Kg8,h6,Rh7,Qf6,Nf5,Qxe6+,Rbf7,Qe8+,Rf8,Qe6+,Kh8,Kh2,Nxh4,Qd6,Rxf2+,Kg1,Rg2+,Kh1,Qc7,Qf6+,Kg8,Qxh4,Rg6,Rg1,Rxg1+,Kxg1,Qe7,Qg4+,Kh8', 'Qc8+,Qf8,Qxf8#', 'https://lichess.org/training/ajADx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AJaH0', 'Blitz', 'Lucifer_lightbrearer', 2063, 'soldier_of_hosain', 1978, 'd4,d5,Bf4,c6,e3,Bf5,Nf3,e6,c3,Be7,Bd3,Bg6,Qc2,Nf6,Ne5,Nbd7,Nxg6,hxg6,h3,a6,Nd2,Rc8,Nf3,b5,Bxg6,fxg6', 'Qxg6+,Kf8,Ng5,Qe8,Nxe6+,Kg8,Qxg7#', 'https://lichess.org/training/AJaH0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AJaT4', 'Rapid', 'PassThrough', 1631, 'gummibaer', 1602, 'd4,d5,Nf3,Nf6,e3,e6,c4,dxc4,Ne5,a6,Bxc4,b5,Be2,Bb7,O-O,Bd6,Bf3,Qc8,Bxb7,Qxb7,Qf3,Qxf3,Nxf3,c5,dxc5,Bxc5,a3,O-O,Nc3,Nc6,b4,Bd6,Re1,Ne5,Nd4,Nc4,Nc6,Rac8,Na5,Nxe3,Rxe3,Ng4,Re4,Bxh2+,Kf1,Nxf2,Kxf2,Rxc3,Re2,Rfc8,Be3,h6,Kf3,g5,g3,Rc2,Rg2', 'g4+,Kxg4,Rxg2', 'https://lichess.org/training/AJaT4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AjAxs', 'Rapid', 'sycomore', 1754, 'Dewd', 1882, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,O-O,e4,Bxc3+,bxc3,d6,Bd3,c5,Nf3,h6,O-O,Nc6,e5,dxe5,dxe5,Nd7,Re1,Qc7,Bf4,b6,Qd2,Bb7,Bxh6,Ndxe5,Bxg7,Kxg7,Qg5+,Ng6,h4,Qd8,Qg4,Qxd3,h5,Qf5,Qxf5,exf5,hxg6,fxg6,Ng5,Kf6,Nh7+,Kg7,Nxf8,Rxf8,Rad1,Rd8,Rd5,Rxd5,cxd5,Nd8,c4,b5,Re8,Nf7,Re7,Ba8,d6,bxc4', 'd7,Kf6,Rxf7+,Kxf7,d8=Q', 'https://lichess.org/training/AjAxs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ajbge', 'Rapid', 'Toxa1982', 1881, 'becobec', 1676, 'd4,d5,c4,e6,Nc3,c6,Nf3,f5,Bg5,Nf6,e3,h6,Bh4,Bd6,c5,Bc7,Ne5,Nbd7,Ng6,Rg8,Be2,Nf8,Bh5,Nxg6,Bxg6+,Kf8,Qc2,Bd7,O-O-O,Be8,Bxe8,Qxe8,f3,g5,Bf2,g4,fxg4,Nxg4,h3,Nxf2,Qxf2,Rg6,g4,Rf6,Qh4,Bd8,gxf5,exf5,Qf4,Qf7,Rhg1,Rg6,Rxg6,Qxg6,Qe5,Bf6,Qd6+,Kg8,Ne2,Re8', 'Rg1,Qxg1+,Nxg1', 'https://lichess.org/training/ajbge');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AjBY9', 'Rapid', 'jugal1960', 1798, 'Ayed63', 1855, 'e4,c5,Nf3,d6,Be2,g6,O-O,Nf6,c3,Nxe4', 'Qa4+,Nc6,Qxe4', 'https://lichess.org/training/AjBY9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AJDpj', 'Blitz', 'FM Buscapina', 2549, 'Neftegor', 2535, 'e4,c5,Nc3,e6,f4,a6,g3,Nc6,Bg2,Nf6,d3,d5,Nf3,b5,e5,Ng8,O-O,Nge7,g4,b4,Ne2,h5,h3,hxg4,hxg4,Qb6,d4,cxd4,Nexd4,Nxd4,Nxd4,Nc6,Be3,Bc5,c3,Bd7,a3,bxc3,bxc3,Rb8,f5,Nxe5,fxe6,fxe6,Bf4,Bd6,Qe2,Nc4,Bxd5,Bxf4,Rxf4,Qd6,Nxe6,Bxe6,Bxc4,Qxf4', 'Qxe6+,Kf8,Rf1', 'https://lichess.org/training/AJDpj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ajf0Q', 'Rapid', 'Zeo_Chesss', 1808, 'angelrove', 1705, 'd4,d6,c4,g6,e4,c5,dxc5,dxc5,Qxd8+,Kxd8,Nc3,Bg7,Be3,b6,O-O-O+,Ke8,Nd5,Na6,g3,e6,Nf4,Ne7,h4,Bb7,Bg2,Nb4,a3,Nbc6,Nge2,Ne5,Nc3,Nxc4,Rd3,e5,Nfd5,Rc8,Rhd1,Nxe3', 'Nc7+,Kf8,Rd8+,Rxd8,Rxd8#', 'https://lichess.org/training/ajf0Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AJGq0', 'Classical', 'matveevoleg', 1810, 'DZIDZASUMRAKOVAC', 1798, 'e4,c5,Nf3,d6,b4,cxb4,d4,Nf6,Bd3,Bg4,Nbd2,g6,O-O,Bg7,h3,Bxf3,Nxf3,O-O,Be3,Nbd7,Qd2,a5,Bh6,Rc8,Bxg7,Kxg7,Nh4,Qb6,Qg5,Qxd4', 'Nf5+,Kh8,Nxd4', 'https://lichess.org/training/AJGq0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ajhHo', 'Rapid', 'klima2626', 2028, 'Residentevil7', 2072, 'e4,e6,Nc3,Nf6,d4,d5,e5,Nfd7,a3,c5,Bb5,Nc6,Nf3,Qb6,O-O,h6,Be3,cxd4,Nxd4,Bc5,Nxc6,bxc6,Ba4,Bxe3,fxe3,Qxe3+,Kh1,Bb7,Qh5,O-O,Rae1,Qg5,Qe2,a5,Nxd5,exd5,e6,fxe6,Qxe6+,Kh8,Qxd7,Rxf1+,Rxf1,Ba6,Rg1,c5,Qc6,Qd8,Qxc5,d4,Rd1,d3,cxd3,Rc8,Qf5,Qd4,Bb5,Bb7,Bc4,Rxc4,Qf8+,Kh7,Qf5+,Kg8', 'Qe6+,Kh7,Qxc4', 'https://lichess.org/training/ajhHo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AJHUA', 'Classical', 'AditSharma11', 1628, 'SANUZ', 1710, 'b4,d5,d4,a6,Nc3,Nf6,f3,Nc6,Qd3,e5,dxe5,Nxe5,Qe3,Qe7,a3,Nc4,Qd4,c5,Qd1,d4,e3,dxc3,Bxc4,b5,Bb3,c4,Bxc4,bxc4,Qd4,g6,Qxc4,Bg7,Qc6+,Nd7,Qxa8,O-O,Ne2,Ne5,Qe4,Bf5,Qd5,Bxc2,Nxc3,Nd3+,Kd2,Nxb4,axb4,Rd8,Qxd8+,Qxd8+,Kxc2,Qc8,Ra3,Qc4,Bd2,Qxb4,Rha1,h5,Rxa6,Qh4,h3,Qf2,Ra8+,Kh7,Re8,Qxg2,Ne4,Bxa1,Rc8,Bg7,Rc7,Bh6,Rxf7+,Kg8,Rf6,Bxe3,Kd3,Bxd2,Nxd2,Kg7,Ne4,Qxh3,Rf7+,Kh6', 'Rh7+,Kxh7,Ng5+,Kg7,Nxh3', 'https://lichess.org/training/AJHUA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ajjFd', 'Rapid', 'fjachess', 1844, 'hassotasso', 1911, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,Nxc6,bxc6,Bc4,Nf6,Nc3,Be7,Be3,O-O,h3,Nxe4,Nxe4,d5,Nc5,Bxc5,Bxc5,Re8+,Be2,Qg5,g3,Qe5,Be3,Qe4,O-O,Bxh3,Bf3,Qe5,Re1,Qxb2,Bd4,Rxe1+,Qxe1,Qxd4,Rd1,Qf6,Rd3,Be6,Re3,g6,Bg2,Qf5,a4,Qxc2,Rxe6,fxe6,Qxe6+,Kf8,Qf6+,Ke8,Qh8+,Kd7,Qxa8,Qxa4,Bh3+,Kd6,Qd8+,Kc5,Qe7+,Kb6,Qe3+,c5,Qe6+,c6,Qf6,Qd1+,Bf1,c4,Qd8+,Kb5,Qb8+,Ka6,Qc8+,Kb6,Qb8+,Ka6,Qc8+,Kb5,Qb7+,Kc5,Qxa7+,Kd6,Qxh7,Qb1,Qh8,Kc5,Qf8+,Kd4,Qf4+,Kc3,Qe3+,Kc2,Qe2+,Kb3,Qe3+,Ka2,Qd2+,Qb2,Qa5+,Kb1,Qe1+,Qc1,Qb4+,Kc2,Qa4+,Kd2,Qa2+,Qc2,Qa5+,c3,Qc5,Qa4,Qe3+,Kc2,Bd3+,Kb2,Qe2+,c2,Bxg6,Qa1+,Kg2,Qd1,Qe5+,Kb3,Qb8+,Kc4,Qf4+,d4,Qf7+', 'Kc3,Bxc2,Qxc2', 'https://lichess.org/training/ajjFd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AJJKz', 'Classical', 'ravi7032', 1924, 'Khetho', 1722, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nc5,d4,Ne6,Bd3,Be7,O-O,b6,Re1,O-O,Nd5,Re8,c3,Bf8,Qc2,h6,Nf4,Nxf4,Bxf4,Bb7,Rxe8,Qxe8,Re1,Qd8,Re3,Nd7,Nd2,Nf6,Ne4,Nd5,Rf3,Nxf4,Rxf4,d5,Ng3,Bd6,Rf3,Qh4,Qe2,Bc6,Re3,Bd7,Qh5', 'Bxg3,Qxh4,Bxh4', 'https://lichess.org/training/AJJKz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ajjyX', 'Rapid', 'Schach-Falke', 2003, 'SeppppO', 1839, 'e4,e6,d4,d5,exd5,exd5,c4,Nf6,Nc3,Bb4,Qb3,a5,cxd5,Nxd5,Bc4,Be6,Ne2,Nc6,O-O,Bxc3,Nxc3,Nxd4,Qa3,Nc2', 'Qa4+,Qd7,Qxc2', 'https://lichess.org/training/ajjyX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AJkh3', 'Classical', 'arikw-s', 1847, 'Boykov_Sergey', 1894, 'd4,d5,Nc3,Nf6,Nf3,Nbd7,Bg5,c6,Qd3,Qc7,e4,dxe4,Nxe4,Nxe4,Qxe4,Qa5+,Bd2,Qb6,Bc4,Nf6,Qe5,Qxb2,O-O,e6,Rfe1,Be7,Ng5,O-O,Nxe6,Qxc2,Nxf8,Qxc4,Qxe7,Bf5,Bb4,Nd5,Qc5', 'Qxb4,Qxb4,Nxb4', 'https://lichess.org/training/AJkh3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AjkT2', 'Rapid', 'justdoitcy', 1717, 'ur2ez4me', 1616, 'e4,d5,exd5,Qxd5,d4,Nc6,Nf3,Bf5,c4,Qe4+,Be2,O-O-O,Nc3,Qg4,O-O,Nxd4,Nxd4,Qxd4,Qxd4,Rxd4,Be3,Rd8,Bxa7,b6,c5,Kb7,cxb6,cxb6,Bxb6,Kxb6,Rfd1,Kc7', 'Nb5+,Kb6,Rxd8', 'https://lichess.org/training/AjkT2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AJlHZ', 'Rapid', 'Alex_W', 1635, 'AbdAllah_alsr7an', 1686, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Bd3,O-O,O-O,h6,f4,Nh7,f5,Bg5,Qg4,Bxc1,Raxc1,Nf6,Qh4,Nh7,Qxd8,Rxd8,Nf3,Re8,Nd5,Na6,Bxa6,bxa6,Nxc7,Bb7,Nxa8,Bxa8,Rfe1,Nf6,e5,dxe5,Nxe5,Be4,Nf3,Bxf3,gxf3,Rb8,b3,Rb5,Rcd1,Rxf5,Rd8+,Kh7,Kg2,Nh5,Ree8,Rf6,Rh8+,Kg6,Ra8,Nf4+,Kg3,Ne6,Rxa7,Nd4,Rc8,Rxf3+,Kg4', 'h5+,Kh4,Nf5#', 'https://lichess.org/training/AJlHZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AJlzR', 'Rapid', 'Funt_izuma', 1689, 'Danilteploukhov', 1651, 'd4,d5,c4,dxc4,e3,b5,a4,Ba6,axb5,Bxb5,Nc3,c6,b3,cxb3,Nxb5,cxb5,Bxb5+,Nd7,Qxb3,e6,Nf3,Nf6,Ne5,Rb8,Qa4,a5,Qxa5', 'Qxa5+,Rxa5,Bb4+,Ke2,Bxa5', 'https://lichess.org/training/AJlzR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aJmc8', 'Rapid', 'n8888888', 1708, 'The_great_abuser', 1750, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,g3,cxd4,cxd4,Bb4+,Nc3,Nge7,a3,Qa5,Bd2,Bxc3,Bxc3,Qc7,b4,a6,a4,Bd7,b5,axb5,axb5,Rxa1,Qxa1,Nb8,Bd3,h6,O-O,O-O,Rb1,Rc8,Ba5,b6,Bb4,Nf5,Bxf5,exf5,Qa3,Qc2,Nd2,Bxb5,Qa7,Nd7,Qb7,Rc7,Qa8+,Rc8,Qxd5,Qc1+,Rxc1,Rxc1+,Kg2', 'Bc6,Qxc6,Rxc6', 'https://lichess.org/training/aJmc8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AJOJ5', 'Blitz', 'Schachvollprofi', 2233, 'FM limerik', 2297, 'd4,d5,c4,e6,Nc3,c6,cxd5,exd5,Bf4,Bf5,e3,Bd6,Bxd6,Qxd6,Bd3,Bxd3,Qxd3,Nf6,Nf3,Nbd7,O-O,O-O,Rac1,Rfe8,Rfd1,Qe7,a3,a6,b4,Ne4,Na4,Nd6,Nc5,b5,Nxd7,Qxd7,Ne5,Rxe5,dxe5,Nc4,Rxc4,bxc4,Qxc4', 'dxc4,Rxd7,c3', 'https://lichess.org/training/AJOJ5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ajonj', 'Classical', 'basarte', 1649, 'parsamh123', 1613, 'd4,d5,Bf4,Nc6,e3,Nf6,c4,e6,Nf3,Na5,b3,Bb4+,Nbd2,c5,Bd3,Bxd2+,Qxd2,b6,O-O,Nc6,Bg5,h6,Bh4,O-O,Qc2,Nb4,Qb1,Nxd3,Qxd3,Re8,h3,dxc4,bxc4,e5,Bxf6,gxf6,Qe4,Bd7,d5,f5,Qc2,e4,Nd2,Qg5,Kh1,Kh7,Rae1,Qh5,f3,f4,fxe4,Bxh3,Nf3,Rg8,gxh3,Qxh3+,Qh2,Qg4,Rg1,Qxf3+,Rg2,Qxe4,Rg1,f3', 'Qxh6+,Kxh6,Rh2+,Qh4,Rxh4#', 'https://lichess.org/training/Ajonj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ajpcO', 'Rapid', 'mamadmeshk', 2136, 'ekomanta', 1863, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,d5,Bb5,Ne4,O-O,Bc5,Nxd4,Bxd4,Qxd4,O-O,Bxc6,bxc6,f3,Ng5,Nc3,Ba6,Re1,Ne6,Qa4,Bb7,Be3,c5,Rad1,d4,Ne4,Qe7,Bf2,Bxe4,Rxe4,Qg5,Qc6,Rac8,Bh4,Qg6,Be7,Rfe8,Bxc5,Qg5,Bxd4,Nf4,g3,Ng6,Be3,Qf5,Kg2,Nxe5,Rxe5,Qxe5,Bf2,Red8,Re1,Qd5', 'Re8+,Rxe8,Qxd5', 'https://lichess.org/training/ajpcO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AJPnk', 'Rapid', 'akuamarin5454', 1867, 'ivanmuts', 1864, 'e4,e5,Bc4,Nf6,d3,Bc5,h3,O-O,Nf3,Nc6,O-O,d5,exd5,Nxd5,Bxd5,Qxd5,Be3,Bxe3,fxe3,e4,dxe4,Qxe4,Nc3,Qxe3+,Kh1,Qh6,Qd2,b6,Qxh6,gxh6,Nd5,Bb7,Nf6+,Kh8,Nh4,Rad8,Nf5,Rd2,Nxh6,Ne5,Rg1,Rxc2,Rac1,Rxc1,Rxc1,Kg7,Nhg4,Nxg4,Nxg4,c5,Rc3,Re8,Rg3,Kf8,Nf6,Re2', 'Rg8+,Ke7,Re8+,Kxf6,Rxe2', 'https://lichess.org/training/AJPnk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AJraH', 'Rapid', 'deendyalsingh', 1874, 'brioxavier', 1890, 'e4,d5,exd5,Nf6,Nf3,Nxd5,Bc4,Be6,Bxd5,Bxd5,Nc3,e6,Nxd5,Qxd5,b3,Bd6,Bb2,O-O,O-O,f6,Re1,e5,c4,Qf7,d4,exd4,Qxd4,Nc6,Qg4,Rad8,Nh4,Ne5,Qf5,Nd3,Qg4,Nxb2,Nf5,Nd3', 'Nh6+,Kh8,Nxf7+', 'https://lichess.org/training/AJraH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ajrRG', 'Rapid', 'leonardodavichi', 2022, 'mohsensada7', 1877, 'e4,c5,f4,Nc6,Nf3,e6,Bc4,d5,exd5,exd5,Bb5,Nf6,O-O,Be7,d4,O-O,Bxc6,bxc6,Ne5,Qb6,c3,cxd4,cxd4,c5,dxc5,Bxc5+,Kh1,Ne4,Qf3,Nf2+,Kg1,Nd3+,Kh1,Nxb2,Nc3,Nc4,Nxd5,Nxe5,fxe5,Qb7,Bd2,Kh8,Bg5,Be6,Nf4,Qxf3,Rxf3,Bf5,Rc1,Bd4,Ne2,Bb2,Rxf5,Bxc1,Nxc1,h6,Be7,Rfe8,Bd6,f6,Nd3,Rad8,Rf3', 'fxe5,Bxe5,Rxe5', 'https://lichess.org/training/ajrRG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AJs2d', 'Rapid', 'ncchavda', 2132, 'Mikdon', 2260, 'f4,Nf6,Nf3,c5,e3,g6,b3,Bg7,Bb2,O-O,Be2,Nc6,O-O,d5,Ne5,d4,Nxc6,bxc6,Bf3,Qc7,exd4,Nd5,Bxd5,cxd5,c3,cxd4,cxd4,Qb6,Kh1,Bxd4,Bxd4,Qxd4,Nc3,Ba6,Re1,e6,g3,Bd3,Re3,Rfc8,Qe1,Bf5,Qf2,Qg7,Re5,Qf8,Qd4,Qa3,Rae1,Qb2,R5e3,Be4+,Kg1,a5,Qe5,Qxd2,Nxe4,dxe4,Qxe4,a4,b4,Rab8,a3,Rc2', 'R3e2,Qxe1+,Rxe1', 'https://lichess.org/training/AJs2d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ajsTJ', 'Rapid', 'marmat2', 1853, 'INSIGNE', 1833, 'e4,c6,c4,d6,Nf3,Bg4,Be2,Nd7,d4,e5,O-O,Ngf6,Bg5,Be7,Qc2,h6,Bh4,O-O,Nbd2,Rc8,b3,exd4,h3,Bxf3,Bxf3,Ne5,Bg3,Nxf3+,Nxf3,c5,Rae1,Nd7,e5,dxe5,Qe4,Qb6,Nxe5,Nxe5,Bxe5,Bf6,f4,Rfe8,Qf5,Bxe5,Rxe5,Rxe5', 'Qxc8+,Kh7,fxe5', 'https://lichess.org/training/ajsTJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ajtXe', 'Classical', 'On--Off', 1680, 'DRK1410', 1872, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Nc3,O-O,d3,Na5,Nxe5,d6,Nf3,Nxc4,dxc4,Bg4,Qd3,Bb4,Nd5,Nxd5,cxd5,Bxf3,Qxf3,f6,Qb3,Ba5,Qxb7,Bb6,Qc6,f5,Qc4,Qh4,Be3,fxe4,Bxb6,cxb6,Rae1,Rae8,Qc6,e3,fxe3,Rxf1+,Kxf1,Qf6+,Kg1', 'Rf8,h3,Qf2+,Kh2,Qxe1', 'https://lichess.org/training/ajtXe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AJUee', 'Classical', 'SVBIstorik', 1724, 'matici1', 1672, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,d6,Bxc6+,bxc6,d3,c5,O-O,Ba6,Bg5,h6,Bxf6,Qxf6,Nd5,Qd8,c4,Be7,b3,O-O,h3,c6,Ne3,Rc8,Nh2,Bb7,Qf3,Rc7,Nf5,d5,Qg4,Bf6,Nxh6+,Kh7,Nf5,Bc8,Qh5+,Kg8,g4,Bxf5,Qxf5,dxe4,dxe4,Rd7,Nf3', 'g6,Qxd7,Qxd7', 'https://lichess.org/training/AJUee');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aJv3K', 'Classical', 'contel08', 1945, 'destructor55', 1905, 'd4,d5,e3,e6,Bd3,c5,c3,cxd4,cxd4,Nf6,Nd2,Nc6,a3,Bd6,f4,O-O,h3,Nd7,Ngf3,f6,O-O,e5,Qb3,Nb6,fxe5,fxe5,e4,Nxd4,Nxd4,Rxf1+,Bxf1,exd4,exd5,Bd7,Ne4,Be5,d6+,Kh8,Ng5,Be8,Bb5,h6,Bxe8,Qxe8,Nf7+,Kh7,Nxe5,Qxe5,Qd3+,Kh8,Bd2,Qxd6,Bb4,Qd5,Rf1,Qe5,Re1,Qd5,Rf1,Re8,Qg6,Qe6', 'Rf8+,Rxf8,Qxe6', 'https://lichess.org/training/aJv3K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ajv7d', 'Classical', 'serzchess', 1693, 'Inked_Ice', 1698, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nc6,Qa4,Bd7,Bb5,a6,Bd3,Ne5,Qb3,Nxf3+,gxf3,Bc6,Be3,Qa5+,Qc3,Qh5,Nd2,Nf6,O-O-O,g6,Be2,Bg7,Qb4,a5,Qb6,O-O,Rde1,Nd7,Qb3,a4,Qb4,Qe5,c3,Nc5,Bd4,Qg5,Be3,Qh5,f4,Qxe2,Rxe2,Nd3+,Kc2,Nxb4+,cxb4,Rfc8,Kb1,a3,b3,f5,f3,fxe4,fxe4,Rc7,Bb6,Rcc8,Rhe1,Ra6,Bf2,Rf8,Bg3,Bb5,Nc4,Rc6,Rc1,e5,fxe5,dxe5,Ree1,Bxc4,bxc4,Rfc8,c5,Bh6,Rc3,Bd2,Rxa3,Bxe1,Bxe1,b6,Bf2,Rf8,Bg3,Rf1+,Kc2,bxc5,b5,Rb6,Rb3,Ra1,Rb2,Rg1,a4,Rg2+,Kc3,Rxb2,Kxb2,Kf7,Bxe5,Ke6', 'Bc7,Rb7,b6', 'https://lichess.org/training/Ajv7d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ajVfu', 'Rapid', 'rhorville', 1935, 'PARAN0IDANDR0ID', 1901, 'e4,e6,c4,b6,d4,Bb7,d5,exd5,exd5,Nf6,Bg5,Be7,Nf3,O-O,Bd3,Ne8,Qd2,Bxg5,Nxg5,Nf6,O-O,Qe7,Nc3,Na6,Nb5,Qd8,Qe3,c6,Nd6,Qc7,Qe7,Nc5,Be2,Rae8', 'Nxe8,Rxe8,Qxf7+', 'https://lichess.org/training/ajVfu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AJVGx', 'Blitz', 'TCGRIF', 1645, 'garfield2020', 1613, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,Bg4,Nc3,Nd4,O-O,Nxf3+,Rxf3,Bxf3,Qxf3,Nf6,d3,Be7,fxe5,dxe5,Nd5,O-O,Be3,Nxd5,Bxd5,c6,Bc4,b5,Bb3,a5,a3,a4,Ba2,b4,axb4,Bxb4,Qg4,Be7,Bh6,Bf6,Rf1,g6,Bxf8,Kxf8,Qf3,Kg7,Bxf7,Kxf7,g4,Kg7,g5,Bxg5,Qf7+,Kh6,Rf3,Qd4+,Kh1,Qxb2', 'Rh3+,Bh4,Rxh4+,Kg5,Qe7#', 'https://lichess.org/training/AJVGx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AJWfD', 'Blitz', 'Metinha', 1783, 'wazir1700', 1807, 'e4,e5,Nf3,d6,d4,Qf6,dxe5,dxe5,Bg5,Qd6,Bb5+,c6,Qxd6,Bxd6,Bc4,a6,Bh4,f6,Nc3,Bg4,O-O-O,Bxf3,gxf3,Bc7,Rhg1,g6,Bxg8,Rxg8,Bxf6,Rf8,Bh4,Rxf3,Na4,Nd7,Bg3,O-O-O,h4,Rff8,b4,h6,c4,Rg8,Nc3,Nb6,Rxd8+,Rxd8,Bh2,Nxc4,Rxg6,Rh8,Rg7,Na3', 'Rxc7+,Kxc7,Bxe5+,Kd7,Bxh8', 'https://lichess.org/training/AJWfD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AJXjO', 'Rapid', 'jonyan', 1703, 'DGBlichess', 1896, 'Nc3,Nc6,Nf3,e6,e4,d5,Bb5,Bd7,O-O,a6,Ba4,b5,Bb3,dxe4,Nxe4,Na5,d4,Nxb3,axb3,Nf6,Bg5,Be7,Re1,O-O,Nxf6+,Bxf6,Bxf6,Qxf6,Qe2,Rfd8,c4,b4,c5,Bb5,Qe3,Rd5,Ne5,Rad8,Rad1,Qh4,Nf3,Qh5,Rd2,Bc6,Ne5,Bb7,c6,Bc8,Rc1,f6,Nf3,e5,Rcd1,Bg4,dxe5,Bxf3,gxf3,Rxd2,Rxd2,Rxd2,Qxd2,Qxe5,Qd8+,Kf7,Qd7+,Kg6,Kg2,Qg5+,Qg4,Qxg4+,fxg4,Kf7,Kf3,Ke6,Ke4,g6,Kd4,Kd6,Kc4,Kxc6,Kxb4,Kb6,Kc4,Kc6,b4,Kd6,f4,h5,h3,f5,g5,Kc6,Kd4,Kd6,b3,h4,Kc4,Kc6,Kd4,Kd6,Kc4,c6,Kd4,Ke6', 'Kc5,Kd7,Kb6,Kd6,Kxa6', 'https://lichess.org/training/AJXjO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ajxQB', 'Classical', 'Kurosh--88', 1824, 'abazoo', 1777, 'c4,e5,Nc3,Nf6,g3,d5,cxd5,Nxd5,Bg2,Nxc3,bxc3,c6,d4,exd4,cxd4,Bb4+,Kf1,O-O,Bh3,Bxh3+,Nxh3,Bc3,Rb1,b6,Bb2,Bxb2,Rxb2,c5,Rd2,cxd4,Rxd4,Qf6,Nf4,Nc6,Rd6,Rad8,Rxd8,Rxd8,Qc1,h6,Kg2,g5,Nd3,Nd4,Re1,Re8,Qb2,Kg7,Kf1,Kg6,a4,Qd6,Rd1,Rxe2,Nf4+,gxf4,Qxd4,Re1+', 'Kxe1,Qxd4,Rxd4', 'https://lichess.org/training/ajxQB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AjzA8', 'Rapid', 'MahmoudZu', 1944, 'Uguzzone', 1855, 'c4,e5,Nc3,d6,g3,Nc6,Bg2,Bd7,Nf3,Be7,O-O,Nf6,d3,a6,Bd2,Rb8,a3,O-O,b4,Nd4,Be3,c5,bxc5,Nxf3+,Bxf3,dxc5,Na4,b6,Rb1,Bxa4,Qxa4,b5,Qxa6,b4,axb4,cxb4,Rb3,Qd7,Rfb1,Ng4,Bd2,Bc5,Bxg4,Qxg4,Kf1,Qh3+,Ke1,Qxh2,e3,Qh5,Bxb4,Bxb4+,Rxb4,Rxb4,Rxb4,Qh1+,Kd2,Qf3,Qa7,Qxf2+,Kc3,Qf6,Rb8,e4+,d4,Qd6,Rxf8+,Kxf8,Qa8+,Ke7,Qxe4+,Kf8,c5,Qxg3,Qxh7,Qe1+,Kd3', 'Qb1+,Kc4,Qxh7', 'https://lichess.org/training/AjzA8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ajztc', 'Blitz', 'SkiRunner76', 1778, 'BakY01', 1816, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,Nf3,d6,Be3,e5,Be2,exd4,Nxd4,Bd7,O-O,Nc6,Qc2,Ng4,Bxg4,Nxd4,Bxd4,Bxd4,Bxd7,Qxd7,Rad1,Bb6,Na4,Rfe8,Nxb6,axb6,a3,Qa4,Qc3,b5,cxb5,Rxe4,Qxc7,Qxb5,Rxd6,Rae8,Rd8', 'Qxf1+,Kxf1,Re1#', 'https://lichess.org/training/ajztc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ajztg', 'Rapid', 'can271', 1732, 'ThirdTable', 1632, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Bf5,Nf3,e6,d4,Bd6,Be3,Nf6,h3,O-O,Nbd2,Nbd7,g4,Bg6,Bg5,h6,Bh4,Qc7,c3,a5,g5,hxg5,Bxg5,Nh7,h4,Bh5,Qc2,a4,Bxa4,Nb6,Bb3,Nc4,Rg1,Nxd2,Nxd2,f6,Bh6,Rf7,Qd3,f5,Bd1,Bxd1,Kxd1,Nf6,a3,Ne4,Nxe4,fxe4,Qe3,Qb6,Rb1,Rxa3,Ke2,Ra2,Qg5,Rxb2+,Rxb2,Qxb2+,Qd2,Rxf2+', 'Kxf2,Qxd2+,Bxd2', 'https://lichess.org/training/ajztg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aK0wY', 'Rapid', 'PapoKarla', 1848, 'klassak', 1777, 'e4,e6,Nf3,d5,e5,c5,d4,cxd4,Qxd4,b6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Bc5,Qd1,Nc6,Nc3,Nce7,Bf4,Ng6,Bg3,N8e7,a3,a5,Qe2,O-O,Rad1,Nf5,Ne4,Nxg3,hxg3,Rac8,c4,Qb7,cxd5,exd5,Nxc5,Rxc5,e6,Re8,exf7+,Qxf7,Qd3,Ne5,Nxe5,Rxe5,Rc1,Qe6,Rxc5,bxc5,Qb5,Rh5,Qxc5,Qh6,f3', 'Rh1+,Kf2,Qd2#', 'https://lichess.org/training/aK0wY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aK34o', 'Classical', 'msaadh1994', 1770, 'hidanao', 1629, 'e4,e5,Nf3,d6,Bc4,Be7,c3,Bg4,d4,Nd7,O-O,Bh5,h3,Bg6,Re1,Nb6,Bb3,Bf6,d5,Ne7,c4,O-O,Nc3,a6,Be3,Nec8,c5,Nd7,c6,bxc6,dxc6,Ndb6,Nd5,Nxd5,exd5,e4,Nd4,Ne7,Bf4,Nf5,Nxf5,Bxf5,Qd2,Re8,Bc2,Rb8,Rab1,Be5,Bxe4,Bxe4,Rxe4,h6,Bxh6,gxh6,Qxh6,Bh2+,Kxh2,Rxe4,Rc1,Qf8,Qg5+,Qg7,Qf5,Re5,Qd7,Ree8,Qxc7,Qg5,Rc3,Qxd5,Qd7,Qe5+,Rg3+,Kf8,c7,Rbc8,Qg4,Rxc7,h4,Rcc8,Kh3,Qxb2', 'Qg8+,Ke7,Re3+', 'https://lichess.org/training/aK34o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aK8rg', 'Blitz', 'sslloo', 1663, 'onuruluocak', 1662, 'Nf3,Nc6,Nc3,e5,b3,d5,Bb2,d4,Ne4,f5,Ng3,Nf6,d3,Bd6,e4,f4,Nf5,O-O,Qd2,Bxf5,exf5,Ng4,h3,Nf6,g4,fxg3,fxg3,Nh5,g4,Nf4,O-O-O,a5,Kb1,a4,Bc1,axb3,cxb3,Ra6,Rh2,Qe7,Qc2,Rfa8,Bxf4,exf4,Rdd2,Nb4,Qc4+,Kh8,a4,Nc6,Ng5,Qxg5,Rde2,f3,Re6,Bxh2,Qd5,Qd2,Qd7,Qd1+,Kb2,Qd2+,Kb1,Rg8,f6,Nb4,fxg7+,Rxg7,Re8+,Rg8', 'Qxd4+,Be5,Qxe5+,Rf6,Qxf6#', 'https://lichess.org/training/aK8rg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AK9pp', 'Blitz', 'srgagare', 1547, 'jafarimehdi', 1669, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Qe2,Qe7,d3,Nf6,Bg5,Be6,Nc3,Nc6,Be3,O-O-O,Nd4,Nxd4,Bxd4,c5,Bxf6,Qxf6,g3,Bd7,O-O-O,Bc6,Rg1,g6,Qg4+,Kb8,f4,Bg7,Bg2,Qd4,Bxc6,bxc6,Qf3,Kc7,Rge1,Bf6,Re4,Rb8,Rxd4,Bxd4,h4,Rb6,Qe4,Rhb8,Qe7+,Kc8,Qe8+,Kb7,Qxf7+,Ka6,Qxh7,Rxb2,Ne2', 'Be3+,Rd2,Rb1#', 'https://lichess.org/training/AK9pp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AkbmW', 'Bullet', 'johnmatrix11', 1525, 'chungus_hunter', 1526, 'e4,c5,Nf3,e6,Bc4,a6,b4,b5,Bd3,c4,Be2,Nc6,c3,Qc7,d4,cxd3,Bxd3,Nf6,O-O,Be7,Re1,Bb7,Bb2,d5,exd5,Nxd5,Be4,Rd8,c4,Ndxb4,Qb3,O-O,Nc3,Na5,Qa3,Bxe4,Nxe4,Nc2,Qc3,Nxa1', 'Qxg7#', 'https://lichess.org/training/AkbmW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('akcoh', 'Classical', 'M4x_is_back', 1982, 'DjHany', 1890, 'd4,g6,Bf4,Bg7,Nc3,b6,e4,Bb7,Qd2,Nf6,f3,h6,O-O-O,a6,Bc4,e6,e5,Nd5,Nxd5,exd5,Bd3,Nc6,Ne2,d6,exd6,cxd6,c3,Qd7,h4,O-O-O,g4,Rde8,h5,g5,Bf5,Re6,Bxe6,fxe6,Bh2,Rf8,f4,Bf6,Rhf1,Na5,fxg5,Nc4,Qd3,Bxg5+,Kb1,Rg8,Rf3,Qb5,b3,Na3+,Kb2,Nc4+,Ka1,Na3,Qh7,Rd8,Rf7,Qc6,Bf4,Bxf4,Rxf4,Nb5,Kb2,e5,Rf7,exd4,Nxd4', 'Qxc3+,Kb1,Na3#', 'https://lichess.org/training/akcoh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AKcWo', 'Classical', 'FazalKhan-iN', 1680, 'alibibibi', 1688, 'd4,d5,Nf3,Nc6,e3,e6,c4,Bb4+,Bd2,Nf6,cxd5,Nxd5,Bb5,Bd7,Bxc6,Bxc6,Ne5,Bxd2+,Nxd2,Bb5,Qf3,Qe7,a4,Ba6,Nb3,Nb4,Rc1,f6,Qh5+,Kf8', 'Ng6+,hxg6,Qxh8+,Kf7,Qxa8', 'https://lichess.org/training/AKcWo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('akd1l', 'Rapid', 'ufrason2006', 2007, 'FM daddystrength', 2292, 'e4,e5,Nf3,Nc6,Bc4,d6,d4,exd4,Ng5,Ne5,Qxd4,Nxc4,Qxc4,Qd7,Nc3,h6,Nf3,c6,O-O,Be7,Bf4,Nf6,Rad1,b5,Qb3,a5,a4,b4,Ne2,Nxe4,Ne5,Qe6,Qxe6,fxe6,Nxc6,g5,Be3,d5,Nxe7,Kxe7,f3,Nf6,Bc5+,Kf7,Nd4,e5,Nc6,Nd7,Rxd5,Ke6,Rd6+,Kf7,Re1,Nxc5,Rxe5,Ne6,Nxa5,Kf6,Nc4,Ra6', 'Rexe6+,Bxe6,Rxa6', 'https://lichess.org/training/akd1l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Akekw', 'Rapid', 'katalan5', 1932, 'teamingwithlife', 2133, 'e4,e5,f4,d5,Nf3,dxe4,Nxe5,Nc6,Nxc6,bxc6,Nc3,Nf6,Qe2,Be7,Nxe4,O-O,d3,Re8,Be3,Bf5,O-O-O,Qd5,Nc3,Qa5,Qf2,Bb4,Bd2,Bg4,Re1,Bxc3,Bxc3,Qxa2,b3,Nd5,Bb2,Qa5,Be2,Bxe2,Rxe2,Nxf4,Rxe8+,Rxe8,Rf1,Re2,Qxf4', 'Re1+,Rxe1,Qxe1#', 'https://lichess.org/training/Akekw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AKeOM', 'Blitz', 'Colinto', 1716, 'bowsplinter', 1670, 'e4,c5,Nf3,d6,Bc4,Nf6,d3,g6,Nc3,Bg7,Qe2,O-O,h4,a6,Be3,b5,Bb3,b4,Nd5,Nbd7,Bg5,Bb7,Bxf6,Nxf6,Nxf6+,Bxf6,h5,Bxb2,Rb1,Bc3+,Kf1,e6,hxg6,hxg6,Ng5,Re8,f4,d5,Qg4,dxe4,Qh4,exd3', 'Qh7+,Kf8,Qxf7#', 'https://lichess.org/training/AKeOM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AkF8S', 'Blitz', 'ProfGabix', 2415, 'IM Frutek', 2471, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,O-O,Be2,d6,Nf3,e5,O-O,Nc6,dxe5,dxe5,Bg5,Qe8,Nd5,Nxd5,cxd5,Nd4,Nxd4,exd4,Bd3,c6,dxc6,Qxc6,Rc1,Qb6,Qe2,Be6,Be7,Rfe8,Bc5,Qd8,Rfd1,Rc8,Bb5,Bd7,Bd3,b6,Bb4,a5,Bd2,Be6,b3,Rxc1,Rxc1,Qd6,g3,h5,Bf4,Be5,Bxe5,Qxe5,Rc6,Bd5', 'exd5,Qxe2,Bxe2', 'https://lichess.org/training/AkF8S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aKfxm', 'Bullet', 'Arminia69', 1909, 'KillerFishXX', 1961, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,f4,dxe5,fxe5,Nc6,Be3,Bf5,Nc3,e6,Nf3,Be7,d5,exd5,cxd5,Nb4,Nd4,Bg6,e6,N4xd5,exf7+,Bxf7,Bf2,O-O,Be2,Bb4,Qc2,Bg6,Qb3,Kh8,O-O,Nxc3,bxc3,Bc5,Rad1,Qg5', 'Ne6,Bxf2+,Rxf2,Rxf2,Nxg5', 'https://lichess.org/training/aKfxm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('akG5m', 'Rapid', 'manunaa', 1619, 'DerKapitalist', 1605, 'Nf3,e6,e4,d5,e5,c5,c3,Nc6,d4,Be7,Bd3,f6,O-O,Qc7,Bf4,Qb6,Qc2,cxd4,cxd4,Nxd4,Nxd4,Qxd4,exf6,Qxf6,Be3,Bd6,Bxh7,Ne7,Nd2,g6,Bxg6+,Nxg6,Rac1,Bxh2+,Kh1,Bd7,Nf3,Be5+,Kg1,Bxb2,Rb1,Ba3,Bd4,e5,Be3,e4,Bd4,Qd6,Bxh8,Nxh8,Qc3,Ng6,Nh4,Nxh4,Qh8+,Ke7,Qxa8,Nf3+,gxf3,Qg6+,Kh1,Bh3,Rg1,Qh6,Rxb7+', 'Bd7+,Kg2,Qh3#', 'https://lichess.org/training/akG5m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AkGDM', 'Rapid', 'aungphyominarsam', 2074, 'PornoActor', 1953, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,f3,O-O,Bc4,Qb6,Bb3,Ng4,fxg4,Bxd4,Bxd4,Nxd4,Qd2,Nxb3,axb3,d6,Nd5,Qd8,h3,e6,Nc3,Qh4+,Qf2,Qxf2+,Kxf2,f5,exf5,gxf5,gxf5,Rxf5+,Ke3,Bd7,Rhd1,d5,g4,Rf7,Rf1,Bc6,Kd4,Raf8,Rxf7,Rxf7,Rxa7,Rf2,Ke5,Kf7,b4,Rxc2,b5,Bd7,Rxb7,Ke7,Na4', 'Re2+,Kd4,Re4+,Kc3,Rxa4', 'https://lichess.org/training/AkGDM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('akgeU', 'Rapid', 'Bologoe40', 1906, 'vicio', 1921, 'd4,Nf6,c4,c5,e3,cxd4,exd4,g6,Nf3,Bg7,Nc3,d6,g3,Nbd7,a3,b6,Bg2,Bb7,O-O,O-O,d5,Ng4,Nd4,Nge5,b3,Nc5,Be4,Ned7,Nde2,Nxe4,Nxe4,Bxa1,N4c3,a6,Bh6,Bxc3,Nxc3,Re8,Qd4,f6,Ne4,Kf7,Ng5+,Kg8,Ne6,Qc8,g4,Ne5,g5,Nf7,gxf6,Nxh6', 'f7+,Kxf7,Qg7#', 'https://lichess.org/training/akgeU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AKgUj', 'Blitz', 'vvviiitttttttt', 1538, 'matt99', 1705, 'e4,d5,e5,c5,d4,cxd4,Qxd4,Nc6,Bb5,Qb6,Bxc6+,Qxc6,Nc3,e6,Nge2,Bc5,Qa4,Bd7,Qg4,Bf8,O-O,Ne7,Nd4,Qc7,Bg5,Ng6,Ncb5,Bxb5,Nxb5,Qxe5,Qa4,Qxg5,Nc7+,Kd8,Nxa8,Bd6,Qxa7,Qe7,Qa5+,Ke8,Nb6,Bc7,Qa8+,Qd8,Qa4+,Ke7,Qb4+,Qd6,Qxd6+,Bxd6,Na4,Rc8,Nc3,d4,Nb5,Bb8,Nxd4,e5,Nf5+,Kf6,Ne3,Nf4,g3,Ne2+,Kg2,Nd4,c3,Nc6,Nd5+,Ke6,Nb6,Rd8,Rfe1,f6,f4,Rd2+,Kh3,Rxb2,Nc4,Rc2,fxe5,Nxe5,Nxe5,Bxe5,Rab1,Rxa2,Rxb7,Kf5,Rf1+,Kg6,c4,Rc2,Rb4,Bd6,Ra4,h5,Ra6,Be5,Re1,Kg5,Re4,g6,Ra5,Kh6,c5,g5,Rxe5', 'g4+,Kh4,Rxh2#', 'https://lichess.org/training/AKgUj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AkGx5', 'Rapid', 'Manelyuk', 2115, 'SlickRick07', 2156, 'Nf3,c5,d3,Nc6,g3,Nf6,Bg2,d5,O-O,e5,c4,d4,e3,Be7,exd4,exd4,Re1,O-O,Nbd2,Bg4,Ne4,Nxe4,Rxe4,Bf5,Rf4,Bg6,Nh4,Bxh4,Rxh4,Nb4,Bxb7,Rb8,Be4,f5,Bg2,Qc7,a3,Nc6,b4,Rbe8,Bd5+,Kh8,bxc5,Ne7,Bf4,Qxc5,Bf3,Bf7,Rb1,Ng6,Rb5,Qxa3,Bc1,Qd6,Rh5,f4,Rbd5,Bxd5,Bxd5,fxg3', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/AkGx5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('akIsh', 'Blitz', 'Angelinaelnikova', 1537, 'halz3', 1680, 'e4,c5,Nf3,e6,d3,a6,g3,d6,Bg2,Nf6,Nbd2,Nbd7,O-O,Be7,Re1,O-O,Nf1,b5,Qe2,Bb7,Be3,e5,c3,Kh8,h4,Ng8,Bh3,Ndf6,N1h2,Nh5,Kg2,Bc8,Bxc8,Rxc8,Bg5,Bxg5,Nxg5,Ngf6,Ng4,Nxg4,Qxg4,g6,f4,exf4,gxf4,f5,exf5,Rxf5', 'Qxf5,gxf5,Nf7+,Kg8,Nxd8', 'https://lichess.org/training/akIsh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AKIsK', 'Rapid', 'militarchess', 1929, 'adondevamos', 1966, 'c4,Nf6,f4,Ne4,Nf3,Nc6,d4,e6,e3,Bb4+,Bd2,Be7,Bd3,d5,cxd5,exd5,O-O,Bg4,Be2,O-O,Nc3,Bf6,Ne5,Bxe2,Qxe2,Bxe5,fxe5,Ne7,Rac1,c6,Nxe4,dxe4,Qg4,Qd5,Rf4,Qxa2,Bc3,Nd5,Rxe4,Rae8,Rf1,Re6,Qf5,Rg6,g3,Re6,h4,Rg6,g4,Qc4,e6,f6', 'e7,Nxe7,Rxe7', 'https://lichess.org/training/AKIsK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AKjM3', 'Rapid', 'lichessplayer62', 1621, 'kacper2009', 1671, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxe5,Qg5,Bxf7+,Ke7,O-O,Qxe5,Bxg8,Rxg8,Na3,Kd8,f4,Qxe4,d3,Qg6,c3,Bxa3,cxd4,Qf6,Qb3,Bd6,Qxg8+,Bf8,Be3,Qf5,Rf3,d5,Rh3,Be6,Qxh7,Qf6,Rf1,Bxh3,Qxh3,Qa6,f5,Qxd3,Bg5+,Be7,Qh8+,Kd7,Qxa8,Bxg5,Qxb7', 'Be3+,Kh1,Qxf1#', 'https://lichess.org/training/AKjM3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AkjXn', 'Rapid', 'antonynous17', 1762, 'DavidEsMu', 1810, 'Nc3,f5,f4,Nf6,Nf3,c6,e3,e6,g3,d5,Bg2,Be7,O-O,O-O,b3,Nbd7,Bb2,Ne4,Nxe4,fxe4,Ne5,Bf6,Qg4,Bxe5,Bxe5,Nxe5,fxe5,Qe7,Rxf8+,Qxf8,Rf1,Qe7,Rf6,Bd7,Qg5,Rf8,Bh3,Rxf6,exf6,Qxf6,Qxf6,gxf6,Kg2,Kf7,Bg4,Ke7,h4,e5,Kh3,Bxg4+,Kxg4,Ke6,h5,f5+,Kg5,f4,gxf4,exf4,exf4,d4,f5+,Kf7,f6', 'e3,dxe3,dxe3', 'https://lichess.org/training/AkjXn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AKKl2', 'Rapid', 'SVLonneker', 2001, 'RasinDetra', 1995, 'f4,d5,Nf3,Nf6,e3,Bf5,d4,e6,c4,c6,Nc3,Nbd7,Be2,Be7,O-O,Ne4,Qb3,Qb6,Qxb6,axb6,Nxe4,Bxe4,a3,dxc4,Bxc4,b5,Be2,Nb6,Ne5,f6,Nd3,O-O,Bd2,Nc4,Bc1,Rfd8,Nf2,Bc2,Bd1,Bxd1,Rxd1,b4,a4,b5,b3,Na3,axb5,Nxb5,Rxa8,Rxa8,Nd3,Ra1,Rd2,Nc3,g3,Rb1,Rb2,Ra1,Kg2,Kf7,Bd2,Ra2', 'Bxc3,Rxb2+,Bxb2', 'https://lichess.org/training/AKKl2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AKKTK', 'Rapid', 'Roxstar96', 1651, 'anec', 1634, 'e4,e5,f4,exf4,Bc4,Be7,Nf3,Bh4+,Kf1,d6,d4,Bg4,Bxf4,Be7,h3,Bh5,Nbd2,Nc6,c3,Na5,Bxf7+,Kxf7,Ng5+,Bxg5', 'Qxh5+,g6,Qxg5,Qxg5,Bxg5', 'https://lichess.org/training/AKKTK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AKLn2', 'Blitz', 'marenostrum1', 2126, 'rafael4z', 2055, 'd4,Nf6,Bf4,g6,Nc3,d5,h3,Bg7,e3,c5,Nf3,O-O,Be2,cxd4,exd4,Nc6,O-O,Ne4,Re1,a6,Bf1,Be6,Ng5,Nxg5,Bxg5,h6,Bf4,Qb6,Na4,Qxd4,Qxd4,Nxd4,Bd3,Rac8,c3,b5,cxd4,bxa4,Be5,Rb8,Bxg7,Kxg7,Re2,a5,Rc1,Rfc8,Rxc8,Rxc8,Bc2,Rc4,Rd2,Rb4,b3,Bd7,bxa4,Bxa4,Bxa4,Rxa4,f4,f6,Kf2,Kf7,g4,g5,f5,e6,fxe6+,Kxe6,Kg3,Ra3+,Kg2,f5,Re2+,Kf6,Re5,Rxa2+,Kg3,f4+,Kf3,Ra3+,Kg2,Re3,Rxd5,Re4,Rxa5,Rxd4,Ra6+,Kg7,h4,Rd2+,Kf3,Rd3+,Ke4,Re3+,Kf5,f3,hxg5,f2,gxh6+,Kh7,Ra7+,Kxh6', 'g5+,Kh5,Rh7#', 'https://lichess.org/training/AKLn2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AKNTo', 'Blitz', 'bulbul26', 1878, 'rubendias173', 1823, 'e4,e5,Nf3,Bc5,Bc4,Nc6,O-O,Qf6,d4,Nxd4,Nxd4,Bxd4,Nc3,a5,Nd5,Qd6,c3,c6,cxd4,cxd5,dxe5,Qg6,exd5,Qe4,b3,b5,Bxb5,Bb7,Bc4,Rc8,Re1,Qg6,Qe2,Ne7,f4,Bxd5,Bxd5,Nxd5,Qf3,Qc6,Ba3,Qb6+,Kh1,Qb7,f5,Qa8,f6,gxf6,exf6+,Kd8,Qg3,Rc2,Rac1,Rxc1,Rxc1,h5,Qg7,Re8,Qxf7,d6,Bxd6,Qc6,Ba3', 'Qxc1+,Bxc1,Re1#', 'https://lichess.org/training/AKNTo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aKoDN', 'Rapid', 'WINLABS', 1757, 'josephtabadero', 1700, 'Nf3,d5,d3,c5,Nbd2,Nc6,e4,d4,g3,e5,Bg2,Bg4,O-O,Nf6,h3,Bh5,g4,Nxg4,hxg4,Bxg4,a4,Bd6,Nc4,h5,Nxd6+,Qxd6,c3,h4,Qb3,h3,Bh1,Bxf3,Bxf3,Qg6+,Kh2,O-O-O,Rg1,Qf6,Bg5,Qxf3,Bxd8,Qxf2+,Kh1,Nxd8,Raf1,Qe3,Qd5,Qxd3,Qxc5+,Kb8,Qxe5+,Ka8,Qxd4,Qa6,Rxg7', 'Qxf1+,Rg1,Qf3+', 'https://lichess.org/training/aKoDN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('akPys', 'Classical', 'CHCHJON', 1646, 'banzaj338', 1674, 'e4,e5,Bc4,Bc5,Nf3,d6,c3,Bg4,h3,Bh5,O-O,h6,d3,Nf6,Re1,O-O,Nbd2,Nc6,Bb3,a5,a4,Ne7,Nf1,c6,Ng3,Bg6,d4,exd4,cxd4,Bb4,Bd2,Qb6,e5,dxe5,dxe5,Nh5,Be3,c5,Bd2,Nxg3,fxg3,c4+,Be3,Qc6,Rc1,Bxe1,Qxe1,b5,axb5,Qxb5,Bxc4,Qxb2,Bd4,Qb4,e6,Nf5,exf7+,Bxf7,Bxf7+,Rxf7,Bc3,Qd6,Bxa5,Rxa5,Qxa5,Nxg3,Rc8+,Kh7,Qa2,Re7,Qc2+,g6,Rc6,Ne2+,Qxe2,Qb4,Qc2,Rg7,Rc7', 'Qb6+,Rc5,Rc7', 'https://lichess.org/training/akPys');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AKq3V', 'Blitz', 'MaesterPycelle', 1604, 'evojtek', 1597, 'e4,c5,Nf3,Nc6,Be2,Nf6,d3,c4,O-O,cxd3,cxd3,e6,b3,Be7,Bd2,O-O,Bc3,e5,Nxe5,Nxe5,Bxe5,d6,Bb2,Be6,Nd2,Rb8,Nf3,d5,Nd4,dxe4,Nxe6,fxe6,dxe4,Nxe4,Qc2,Nxf2,Rxf2,Bc5,Rf1,Qb6,Qe4,Bxf2+,Kh1,Rbe8,Qe5,Rf7,Bh5,Rf6,Bxe8,Qa6,Rxf2', 'Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/AKq3V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AKqqP', 'Blitz', 'DSS4', 1797, 'kethury', 1837, 'd4,Nf6,Bf4,d5,e3,e6,Nf3,c5,c3,Nc6,Nbd2,a6,Be2,h6,Ne5,Bd6,Nxc6,bxc6,Qa4,Qc7,Nf3,Bxf4,exf4,O-O,Ne5,Bb7,dxc5,Nd7,Nxd7,Qxd7,g3,Rfe8,O-O,e5,fxe5,Rxe5,Bf3,Rae8,Qc2,Qh3,Bg2,Qh5,Rad1,Re2,Rd2,Rxd2,Qxd2,Re2,Qd1,Qe5,Qc1,g5,Bf3,a5,Bxe2,Qxe2,Re1,Qc4,Re8+,Kg7,Re7,Bc8,Qe3,Bh3,Qe5+,Kg6,Qd6+,Kh5,g4+', 'Qxg4+,Qg3,Qd1+,Re1,Qxe1#', 'https://lichess.org/training/AKqqP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AKrLy', 'Rapid', 'Peregudov', 1927, 'tibra1989', 1862, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Bc4,Nf6,d4,a6,Bg5,e6,Nf3,Be7,O-O,b5,Bd3,Bb7,Re1,O-O,Ne5,Nd5,Bxe7,Qxe7,Nxd5,Bxd5,Be4,c6,c3,Nd7,f4,Nxe5,fxe5,f6,exf6,Qxf6,Rf1', 'Qxf1+,Qxf1,Rxf1+', 'https://lichess.org/training/AKrLy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('akTLZ', 'Rapid', 'Mahmoud-M-Hussein', 1805, 'sixhat', 1857, 'd4,Nf6,Nc3,d6,e4,Nbd7,Nf3,g6,Bb5,c6,Bc4,Bg7,Ng5,O-O,O-O,e5,dxe5,Nxe5,Bb3,h6,Nf3,Bg4,Kh1,Qd7,Bf4,Bxf3,gxf3,Nh5,Bg3,Rad8,Rg1,Qe7,f4,Nd7,f5,Bxc3,bxc3,Qxe4+,Rg2,Nxg3+,fxg3,Qxf5,Qxd6,Nc5,Bxf7+,Kxf7,Qc7+,Rd7,Qa5,Ne4,Qxa7,Nf2+', 'Rxf2,Kg7,Rxf5', 'https://lichess.org/training/akTLZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Akup4', 'Rapid', 'Tito94', 1838, 'gravizapa78', 2139, 'e4,g6,d4,Bg7,e5,d6,f4,e6,Nf3,Ne7,Bb5+,Nd7,Bxd7+,Qxd7,O-O,O-O,Ng5,b6,Qf3,Rb8,Qh3,h6,Ne4,Bb7,Nf6+,Bxf6,exf6,Nf5,g4,Kh7,gxf5,exf5,Nc3,Qe6,Bd2,Qxf6,d5,Qd4+,Rf2,Bxd5,Nxd5,Qxd5,Bc3,Rbe8,Qh4,Re6,Raf1,Qc5,Kg2,Rfe8,Rf3,Qc6,Kg1,d5', 'Qxh6+,Kxh6,Rh3#', 'https://lichess.org/training/Akup4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('akveu', 'Blitz', 'solus_rex', 2214, 'lateraleste', 1861, 'f4,d5,Nf3,c5,e3,g6,c3,Bg7,d4,b6,Bb5+,Bd7,Be2,Nf6,O-O,e6,Nbd2,O-O,Bd3,Nc6,Qe2,Rc8,e4,dxe4,Nxe4,Nxe4,Bxe4,Ne7,dxc5,Rxc5,Be3,Rc8,Rad1,Qe8,Bd4,Bc6,Bxg7,Kxg7,Rfe1,Bxe4,Qxe4,Rd8,Qe5+,Kg8,Qg5,Nf5,g4,Rxd1,Rxd1,Ne3,Qh6,Nxg4,Qh4,h5,h3,Ne3,Re1,Nf5,Qf2,Qc6,Ne5,Qc5,Qxc5,bxc5,Nd7,Rd8,Nxc5,Rd2,Na4,Nh4,Rc1,Rd3,c4,Rxh3,c5,Rd3,c6,Rd8,c7,Rc8,b4,Nf5', 'b5,Nd6,b6,axb6,Nxb6', 'https://lichess.org/training/akveu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('akWCx', 'Rapid', 'chessgafa', 1758, 'marcusmaia', 1852, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Bc4,O-O,O-O,Nc6,h3,a6,a4,Bd7,g4,Rc8,Ba2,Nxd4,Bxd4,b5,axb5,axb5,Bb3,Bc6,Qe2,b4,Nd1,Nxe4,Bxg7,Kxg7,Ra6,d5,Ne3,e6,f3,Ng3,Nf5+,exf5,Qe5+,Kg8,Qxg3,Bb5,Rd6,Qc7,Re1,Rcd8', 'Rxg6+,hxg6,Qxc7', 'https://lichess.org/training/akWCx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('akxKI', 'Blitz', 'finbarsafen', 1670, 'maadin', 1666, 'd4,e5,dxe5,Bc5,Bf4,Qh4,Bg3,Qb4+,Nd2,Qxb2,Ngf3,Nc6,e3,Nge7,Bc4,Ng6,Bb3,Bb4,Rb1,Bxd2+,Nxd2,Qa3,Nc4,Qe7,O-O,Ncxe5,Nxe5,Nxe5,Qd5,d6,f4,Nc6,Bh4,Qxe3+,Kh1,O-O,Rbe1,Qc5', 'Qxf7+,Rxf7,Re8#', 'https://lichess.org/training/akxKI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('akxsS', 'Classical', 'Sindhura', 1702, 'DmitryRobak', 1794, 'd4,a6,c4,d5,cxd5,Qxd5,Nc3,Qd8,Nf3,Bg4,e4,e6,h3,Bh5,Be2,Bb4,O-O,Ne7,a3,Ba5,b4,Bb6,a4,Bxf3,Bxf3,Qxd4,Qxd4,Bxd4,Bb2,O-O,Rfd1,e5,Rab1,Nbc6,b5,axb5,axb5,Na5,Nd5,Nxd5,Bxd4,exd4,exd5,Nc4,Rxd4,Nd6,b6,Rfc8,Bg4,f5,Bf3,Ra6,bxc7,Rxc7,g4,fxg4,Bxg4,h6,Re1,Ra2,Rb4,b5,Re6,Ra6,Rxb5', 'Ra1+,Kg2,Nxb5', 'https://lichess.org/training/akxsS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AkYnP', 'Rapid', 'serbi', 1783, 'OlegDmitriev', 1723, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,d6,h3,f5,d3,f4,g3,g5,gxf4,gxf4,Na4,Bd4,Nxd4,Nxd4,c3,Ne6,Qh5+,Ke7,Rg1,Nf6', 'Rg7+,Nxg7,Qf7#', 'https://lichess.org/training/AkYnP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('akyNX', 'Rapid', 'loldot', 1605, 'topolyok', 1707, 'd4,e6,e4,d6,Nf3,Be7,Nc3,h6,Bc4,Nf6,O-O,O-O,Bb3,Bd7,Nh4,Nxe4,Nxe4,Bxh4,Qg4,e5,Qd1,exd4,Qxd4,Be6,Bxe6,fxe6,Nc3,e5,Qg4,Kh8,Be3,Nd7,Rad1,Qe7,Nd5,Qd8,b4,c6,Nc3,d5,Ne2,Qe7,Bc5,Nxc5,bxc5,Bg5,Rfe1,Rf4,Nxf4,Bxf4,g3,Bg5,c4,Qxc5,Rxe5,Bf6,Rh5,Rf8,cxd5,cxd5,Rdxd5,Qc1+,Rd1,Qb2,Qe6,Bd4,a4', 'Qxf2+,Kh1,Qf3#', 'https://lichess.org/training/akyNX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AKYzU', 'Blitz', 'StSarak', 1700, 'mastermirah', 2125, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,f4,dxe5,fxe5,Nc6,Be3,Bf5,Nf3,Nb4,Na3,e6,Be2,Be7,O-O,O-O,Qd2,a5,Bg5,Bxg5,Nxg5,h6,Nf3,Qe7,Qf4,Rad8,Rad1,Nxa2,Nh4,Bh7,Bd3,Bxd3,Rxd3,Nb4,Rg3,Kh8,Nf3,c5,Ng5,Rxd4,Nxf7+,Kh7,Rxg7+,Kxg7', 'Qxh6+,Kg8,Qg6#', 'https://lichess.org/training/AKYzU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AKZHC', 'Rapid', 'prebbon', 1970, 'jaro52', 1930, 'd4,d5,c4,e6,Nf3,Nf6,Nc3,c5,cxd5,Nxd5,e4,Nxc3,bxc3,cxd4,cxd4,Bb4+,Bd2,Bxd2+,Qxd2,O-O,Bd3,Nc6,e5,a6,h4,b5,Qd1,Bb7,Bxh7+,Kxh7,Ng5+,Kg8', 'Qh5,Qa5+,Kf1', 'https://lichess.org/training/AKZHC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AKZYI', 'Rapid', 'the-chess-apprentice', 1925, 'EarthRed', 1849, 'c4,e5,Nc3,c6,g3,d5,cxd5,cxd5,e3,f5,d4,e4,Qh5+,g6,Qe2,Nf6,Qb5+,Nc6,f3,Bb4,Bd2,Bxc3,Bxc3,Qb6,fxe4,fxe4,a4,Bd7,Bh3,Ng4,Ke2', 'Nxd4+,Bxd4,Bxb5+', 'https://lichess.org/training/AKZYI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aL0og', 'Blitz', 'derkassierer', 1950, 'MatiBlitz', 1996, 'e4,c5,Nf3,Nc6,c3,e5,d4,cxd4,cxd4,exd4,Nxd4,Nf6,Nc3,Bb4,Nxc6,bxc6,Bd3,O-O,O-O,Re8,Bg5,h6,Bh4,Bxc3,bxc3,d5,exd5,cxd5,Qf3,g5,Bg3,Bg4,Bc7,Bxf3,Bxd8,Rexd8,gxf3,Nh5,c4,Nf4,Bf5,dxc4,Rfe1,Rab8,Rac1,Rb5,Be4,Rd2,Rxc4,Rbb2,Rf1,Nh3+,Kg2,Nxf2,Kg3,h5,h4,Nh1+,Rxh1', 'Rg2+,Kh3,g4+,fxg4,hxg4#', 'https://lichess.org/training/aL0og');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aL25P', 'Rapid', 'victorjz', 1890, 'didaiddi', 1819, 'e4,e5,Nf3,Nc6,Bb5,Nge7,c3,a6,Ba4,b5,Bb3,h6,O-O,d6,h3,Ng6,d4,exd4,cxd4,Be7,Re1,O-O,Nc3,Na5,Bc2,Nc4,Qd3,Be6,a3,d5,e5,f5,exf6,Rxf6,b3,Bf5,Qe2,Bxc2,Qxc2,Nd6,Nxd5,Rxf3,Qxg6,Rf8,Nxe7+,Kh8,Bxh6,Rf7,Bg5,Rxe7,Qxd6', 'Rxe1+,Rxe1,Qxd6', 'https://lichess.org/training/aL25P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aL2Dw', 'Classical', 'Forgae', 1958, 'cvtiyj1', 1977, 'd4,Nf6,c4,e6,Nc3,Bb4,Bg5,h6,Bh4,c5,e3,g5,Bg3,Ne4,Qc2,Nxg3,hxg3,Qa5,Nf3,Bxc3+,bxc3,d6,Be2,Nd7,d5,e5,Nxg5,Nf6,Rc1,Qa3,Kd1,Bd7,Ke1,Ba4,Qb1,b6,Bd1,Bd7,Bb3,h5,Ke2,Ke7,Ne4,Bf5,Bc2,Nxe4,Bxe4,Bxe4,Qxe4,Qxa2+,Kf3,Raf8,Qh4+,f6', 'Ra1,Qxa1,Rxa1', 'https://lichess.org/training/aL2Dw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('al34p', 'Rapid', 'Barliq', 1817, 'Kerdo', 1851, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,h5,Bh7,Bc4,Nf6,Nf3,Nbd7,c3,e6,O-O,Bd6,Qb3,Qc7,Ne2,Nxh5,Be3,Be4,Bxe6,O-O-O,Bxf7,Bxf3,gxf3,Nhf6,d5,Ne5,dxc6,Nxf3+,Kh1,Qxc6,Bd5,Nxd5,Bxa7,Nf4,Nxf4,Nh4+,Qd5', 'Bxf4,Qxc6+,bxc6', 'https://lichess.org/training/al34p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Al4cq', 'Rapid', 'PeterAy', 1812, 'Valet111', 1804, 'd4,Nf6,Nf3,e6,e3,d5,Bd3,Bd6,c3,O-O,Nbd2,a6,Qc2,b5,O-O,c5,dxc5,Bxc5,e4,h6,e5,Nfd7,Re1,Nc6,Nf1,Qc7,Bf4,f6,Qd2,Ndxe5,Nxe5,Nxe5,Bg3,Bd6,Bc2,Nc4,Qd3,Bxg3,Nxg3,Nxb2,Qh7+,Kf7,Qg6+,Kg8,Nh5,Qf7', 'Qh7#', 'https://lichess.org/training/Al4cq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aL5va', 'Rapid', 'Loco_Luc', 1928, 'tallas', 2182, 'd4,Nc6,Bf4,h5,d5,e5,Bd2,Nce7,e4,Ng6,Nc3,Bc5,Na4,Bxf2+,Kxf2,Qh4+,g3,Qxe4,Nc5,Qxh1,Nf3,d6,Ne4,Bg4', 'Bb5+,Kf8,Qxh1', 'https://lichess.org/training/aL5va');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ALCiW', 'Bullet', 'MaFioZ', 1726, 'dannyyoung', 1718, 'd4,d5,Bf4,e6,e3,c5,c3,h6,Bd3,Nf6,Nd2,c4,Bc2,Nc6,a3,Be7,b3,b5,h3,a5,Ngf3,Bb7,Ne5,O-O,Ndf3,Rc8,O-O,Qb6,b4,axb4,axb4,Ra8,g4,Rxa1,Qxa1,Ra8,Qb2,Ra6,Ra1,Qa7,Rxa6,Qxa6,Nxc6,Bxc6,Ne5,Bb7,g5,hxg5,Bxg5,Kf8,Bxf6,Bxf6,Nd7+,Ke7,Nxf6,Kxf6,Qb1,Qa3,Qe1,Qb2,Bb1,Bc8,f4,Qa1', 'Qh4+,g5,Qxg5#', 'https://lichess.org/training/ALCiW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ALDCT', 'Rapid', 'Arab_Knight', 1616, 'fabriajedrez', 1675, 'd4,e6,c4,d5,Nc3,c5,g3,Nc6,cxd5,exd5,dxc5,Bxc5,Qxd5,Qb6,Ne4,Qa5+,Bd2', 'Bxf2+,Nxf2,Qxd5', 'https://lichess.org/training/ALDCT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AlDJM', 'Blitz', 'FM UnknownM8', 2517, 'liuke404', 1915, 'd4,Nf6,Nf3,g6,Bg5,Bg7,Nbd2,d6,e4,O-O,c3,c5,dxc5,dxc5,Be2,Nc6,Qc2,b6,O-O,h6,Bh4,Kh7,Rfe1,Re8,Rad1,Qc7,Nc4,Be6,Ne3,Rad8,a4,Rxd1,Rxd1,Nh5,Re1,Rd8,Bb5,Nf4,Bg3,Ne5,Nd2,Nh5,Ndc4,Nxg3,hxg3,Nxc4,Bxc4,Bxc4,Nxc4,a6,Ne3,b5,axb5,axb5,Qb3,Qb7,Qxf7,Qxe4,Re2,Rd1+,Kh2,Qe5,Qf4', 'Qh5+,Qh4,Qxe2', 'https://lichess.org/training/AlDJM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AlDLT', 'Rapid', 'DAVO2016', 1804, 'SgnJp', 1906, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,c3,Nge7,Bd3,c4,Bc2,Ng6,a4,Be7,b3,cxb3,Bxb3,f6,exf6,Bxf6,Ba3,Nce7,O-O,O-O,c4,dxc4,Bxc4,Re8,Nc3,Qc7,Qe2,Kh8,Nb5,Qf4,Bd6,Qg4,h3,Qh5,Nc7,e5,Nxe8,Bxh3,Nxf6,gxf6,gxh3,Nf4,Qe4,Nxh3+,Kh1', 'Nxf2+,Kg1,Nxe4', 'https://lichess.org/training/AlDLT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('alEtj', 'Rapid', 'aflajelly', 1695, 'Aal101', 1780, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nxe5,Qg5,Nf3,Qxg2,Rg1,Qh3,d3,Bg4,Rg3,Qh5,Nbd2,Bd6,Rg1,Bxh2,Rh1,g6,Rxh2,Bxf3,Nxf3,Qg4,Be3,O-O-O,Bd4,Rxd4,Nxd4,Qg1+,Kd2,Qxh2,Qf3,Ne7,Qxf7,Kd7,Nb3,b6,c4,Qh6+,Kc2,Rf8,Rh1,Rxf7,Rxh6,Rxf2+,Kc3,Rf7,c5,g5,a4,g4,Rh5,g3,Rg5,Rf3,a5,bxa5,Nxa5,Ng6,Nc4,Nf4', 'Ne5+,Ke7,Nxf3', 'https://lichess.org/training/alEtj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AlG2h', 'Rapid', 'ELOJL', 1675, 'titifun', 1732, 'e4,c5,Bc4,e6,Nf3,d5,exd5,exd5,Be2,Nc6,d4,c4,c3,Nf6,b3,b5,Bg5,Be7,Nbd2,a5,Nh4,Ne4,Bxe7,Qxe7,Nhf3,Bg4,Nxe4,Qxe4,O-O,O-O,Re1,Rfe8,Nd2', 'Bxe2,Nxe4,Bxd1', 'https://lichess.org/training/AlG2h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AlgVH', 'Classical', 'sukalov', 1621, 'buddhiman', 1615, 'd4,c5,d5,d6,c4,Nf6,Nf3,h6,Nc3,e6,e4,e5,Be2,a6,b3,Qa5,Bd2,Qd8,Rb1,Be7,h4,Nh5,Be3,Nf4,Bxf4,exf4,h5,Bf6,Qd2,Nd7,Rc1,Qa5,a4,O-O,Nh4,Qb4,Rh3,Bg5,Qb2,f3,Rxf3,Bxc1,Qxc1,Ne5,Rf4,Qxb3,Nf5,Bxf5,Rxf5,Nxc4,g4,Qb4,g5,Rae8,gxh6,Re5,Rxe5,Nxe5,hxg7,Re8,Qh6,Qxc3+,Kf1,Ng6,hxg6,Qxg7,gxf7+,Kxf7', 'Bh5+,Kg8,Qxg7+,Kxg7,Bxe8', 'https://lichess.org/training/AlgVH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ALHaD', 'Rapid', 'bade2018', 1609, 'Leboomski', 1612, 'e4,c5,Nc3,d6,Nf3,e6,d4,cxd4,Qxd4,Nc6,Qe3,Nf6,h3,Be7,Bd3,O-O,e5,dxe5,Nxe5,Nxe5,Qxe5,Bd6,Qg5,Re8,Bf4,e5,Bg3,Bc5,O-O-O,Qa5,Bxe5,Bxf2,Bxf6', 'Be3+,Qxe3,Rxe3', 'https://lichess.org/training/ALHaD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AlhD6', 'Rapid', 'Chess_Lasse', 1969, 'ssssssssss29012901', 2073, 'Nf3,d5,b3,Nf6,e3,Bg4,Be2,c5,Bb2,Nc6,O-O,e6,h3,Bh5,d3,Bd6,Nbd2,O-O,a3,Rc8,c4,Bb8,cxd5,exd5,Bxf6,Qxf6,Re1,Rfe8,Qc2,Ne5,Nxe5,Qxe5,Nf1,Bxe2,Qxe2,b5,d4,cxd4,Qxb5,dxe3', 'Rxe3,d4,Rxe5', 'https://lichess.org/training/AlhD6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AlicB', 'Classical', 'ammazzasomari', 1979, 'DanieleOddo', 2291, 'c4,e6,Nc3,d5,d4,c6,cxd5,exd5,Nf3,Nf6,Bf4,Bd6,Bxd6,Qxd6,e3,O-O,Bd3,Bg4,h3,Bh5,g4,Bg6,Ne5,Bxd3,Qxd3,Ne4,Nxe4,dxe4,Qxe4,Qb4+,Kf1,Qxb2,Rb1,Qxa2,Rxb7', 'Qa6+,Kg2,Qxb7', 'https://lichess.org/training/AlicB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AliEy', 'Blitz', 'Maria_Invicta', 1681, 'Longinus', 1838, 'e4,c6,Nf3,d5,Nc3,d4,Na4,Bg4,h3,Bxf3,Qxf3,e5,Bc4,Nf6,Nc5,Qc7,d3,Bxc5,O-O,O-O,Qg3,Re8,Bh6,Bf8,f4,Nbd7,fxe5,Qxe5,Rf4,Nh5,Bxf7+,Kh8,Bxh5,Qxh5', 'Rxf8+,Nxf8,Qxg7#', 'https://lichess.org/training/AliEy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ALImB', 'Rapid', 'eddyzi', 2259, 'cplyakap1905', 2217, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Bd2,Nxe4,Bxb4,Nxb4,Bxf7+,Kxf7,Qb3+,d5,Qxb4,Re8,O-O,Kg8,Nc3,Nxc3,bxc3,b6,Rfe1,Be6,Ne5,Bf7,Re2,Qd6,Qb2,c5,Rae1,Bh5,f3,Rf8,Qd2,Rf6,Qg5,Bg6,Qg3,c4,Re3,Bf7,Nxf7,Qxg3,Nh6+,Rxh6,hxg3,Rf6,Re7,Rf7,Re8+,Rxe8,Rxe8+,Rf8,Re7,a5,Rd7,b5,Rxd5,Rb8,a3,b4,axb4,axb4,cxb4,Rc8,Rc5', 'Rxc5,bxc5,c3,Kf2,c2', 'https://lichess.org/training/ALImB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('alkAA', 'Rapid', 'hadi20', 1819, 'obelfix', 1845, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Bc4,Nf6,h3,c6,Nf3,Qh5,O-O,Bxh3,gxh3,Qxh3,d3,e6,Bf4,h6,Ne4,Nbd7,Nh2,Bc5,Qf3,Qxf3,Nxf3,Bb6,Nxf6+,gxf6,Kh2,Rh7,Rg1,O-O-O,Rg2,e5,Be3,Bc7,Kh3,Nf8,Rg8,Ne6,Rag1,Ng5+,Nxg5', 'hxg5+,Kg2,Rxg8', 'https://lichess.org/training/alkAA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('almOV', 'Rapid', 'RussianChessFun', 1741, 'Furthbruno', 1897, 'e4,e5,Bc4,Nc6,c3,f5,f3,Nf6,Ne2,fxe4,fxe4,Nxe4,d3,Qh4+', 'g3,Nxg3,Nxg3', 'https://lichess.org/training/almOV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('alnYk', 'Rapid', 'Naeuioo', 1738, 'kobelev', 2013, 'd4,d5,Bf4,e6,Nc3,c5,dxc5,Bxc5,e3,a6,Bd3,Nf6,h3,Nbd7,Nge2,b5,a3,O-O,O-O,Bb7,Na2,Rc8,c3,e5,Bh2,Bb6,Re1,Re8,Ng3,Nc5,b4,Na4,Rb1,Nxc3,Nxc3,Rxc3,Rb3,Rxb3,Qxb3,Qc8,e4,d4,Qa2,Qc3,Rd1,Rc8,Ne2,Qc7,a4,bxa4,Rc1,Qd6,Qxa4,Rxc1+,Nxc1,h6,Ne2,Bc7,b5,axb5,Bxb5,Bxe4,Nxd4,Qc5,Ne2,Qd5,f3,Bb6+,Kf1,Qc5,Bg3,Bd5,Bd3,Nh5', 'Qe8+,Qf8,Bh7+,Kxh7,Qxf8', 'https://lichess.org/training/alnYk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AlpmR', 'Rapid', 'amoh215', 1714, 'haveachess', 1664, 'e4,e5,f4,exf4,Nf3,d6,Bc4,Bg4,d4,Nf6,Bxf4,Be7,Nbd2,O-O,h3,Bxf3,Qxf3,Nc6,c3,Re8,g4,Na5,Bd3,c5,e5,dxe5,Bxe5,Bd6,O-O-O,Bxe5,dxe5,Nd5,Qe4,Nf6,Qf5,g6,Qxf6,Qxd3,Rdf1,Qd7,Ne4,Rad8,Qh4,Re6,Ng5,Qd2+,Kb1,Qd3+,Ka1', 'Nb3+,axb3,Ra6#', 'https://lichess.org/training/AlpmR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aLPpN', 'Rapid', 'ustanojevic', 1625, 'Basaew', 1622, 'e4,e5,f4,d5,exd5,Bc5,Nf3,exf4,Nc3,Ne7,d4,Bb4,Bxf4,Bxc3+,bxc3,Qxd5,Bd3,Nd7,Qe2,Nf6,O-O,Be6,Bxc7,Rc8,c4,Qc6,d5,Bxd5,cxd5,Qxc7,Bb5+,Kf8,c4,a6,Ba4,b5,cxb5,Nexd5,Bb3,Nc3,Qd3,Ng4,Rac1,Qc5+,Nd4,Ne2+,Qxe2', 'Qxd4+,Kh1,Rxc1,Rxc1,Nf2+,Qxf2,Qxf2', 'https://lichess.org/training/aLPpN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AlpTs', 'Rapid', 'Medelas', 2030, 'hd173', 2025, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Bc5,O-O,d6,c3,Bg4,h3,Bh5,d3,Nge7,Bxf7+,Kxf7,Ng5+,Kg8,Qxh5,Ng6,Ne6,Qd7,Nxc5,dxc5,f4,exf4,Bxf4,Qxd3,Rd1', 'Nxf4,Rxd3,Nxh5', 'https://lichess.org/training/AlpTs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('alpYY', 'Rapid', 'Erhan', 1601, 'tiptipp', 1717, 'e4,e5,Nf3,Nc6,c3,Nf6,d3,Bc5,Ng5,h6,Nh3,d6,Be3,Bxe3,fxe3,Bxh3,gxh3,Nh7,Nd2,Qh4+,Ke2,O-O-O,Nf3,Qh5,Kd2,Ng5,Nxg5,Qxg5,Kc2,Qxe3,Qg4+,Kb8,Qxg7,Qf2+,Kb3,Na5+,Ka4,Qc2+,b3,Qxc3,Be2,b5+,Ka3,b4+,Ka4,Nc6,Rhc1,Qb2,Rxc6,Qa3+,Kb5,a6+,Rxa6,Qb2,Re1,Qd4,Rc6,Qa7,Qxf7', 'Qb7+,Ka5,Qxc6', 'https://lichess.org/training/alpYY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ALPZz', 'Blitz', 'AshishMahamuni', 1667, 'Jonik_Hapizov', 1685, 'e4,e5,f4,Bc5,Bc4,Nc6,Nf3,Nd4,Nxe5,d6,Nxf7,Qh4+,g3,Qh3,Nxh8,Qg2,Qh5+,g6,Qxh7,Nf3+,Kd1,Qxh1+,Ke2,Qg2+,Kd3,Ne1+,Kc3,Qf3+,d3,Qe2,Qf7+,Kd8,Qxg8+,Kd7,Qe6+,Kc6,Qd5+,Kb6,a4', 'Qxc2#', 'https://lichess.org/training/ALPZz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('alRuk', 'Blitz', 'AvImd', 1686, 'Reeka', 1687, 'b3,d5,Bb2,Nf6,Nf3,e6,c4,c5,Nc3,d4,Nb5,Qb6,e3,a6,Na3,Nc6,Nc2,Bd6,exd4,cxd4,Ncxd4,Nxd4,Bxd4,Qd8,Qe2,Bb4,g3,O-O,Bg2,b5,c5,Ra7,a3,Ba5,b4,Bc7,O-O,e5,Bxe5,Bxe5,Qxe5,Re8,Qd4,Rd7,Qc3,Rd3,Qc2,Bf5,Qb2,Re2,Rfd1,Ne4,Bf1,Rxf2,Bxd3,Qxd3,Qe5,g6,Qe8+,Kg7,Qe5+,f6,Qe7+,Kh6,Qf8+,Kh5,Qg7,Qxf3', 'Qxh7+,Kg4,Qh4#', 'https://lichess.org/training/alRuk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('alsyi', 'Blitz', 'JR7Furkan', 1974, 'aG_Puzzles', 2009, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,c4,Nf6,Nc3,Bb4,Bg5,Qa5,Bxf6,gxf6,Qc2,Bxc3+,Qxc3,Qxc3+,bxc3,c5,Be2,Ke7,O-O,Ba6,Rfd1,d6,Rab1,Rab8,Rdc1,Kd7,g3,Kc7,Kg2,h5,h4,Rb6,f4,Bb7,Bf3,f5,exf5,Bxf3+,Kxf3,exf5,Rxb6,axb6,Re1,Kd7,Rb1,Rb8,a4,Kc6,a5,Rb7,axb6,Rxb6,Rxb6+', 'Kxb6,Ke3,Ka5,Kd2,Ka4', 'https://lichess.org/training/alsyi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ALV9O', 'Classical', 'ivanfuentes', 1784, 'rookie_1982', 1758, 'c4,e5,g3,Nf6,Bg2,Bc5,Nc3,Nc6,a3,a5,d3,d6,Rb1,O-O,Bg5,h6,Bxf6,Qxf6,Ne4,Qe7,Nxc5,dxc5,Nf3,Rb8,Nd2,Bd7,O-O,b6,e3,Qd6,Ne4,Qg6,Nc3,Na7,Qd2,Be6,Rfd1,Rbd8,Nd5,Bxd5,Bxd5,Rd6,Qc3,Qf5,Be4,Qf6,h4,Rfd8,b4,axb4,axb4,cxb4,Rxb4,Nc6,Ra4,Ne7,Rda1,g6,Ra8,Nc6,c5,bxc5,Qxc5,Rxa8,Rxa8+,Kg7,Bxc6,Rxc6', 'Qf8+,Kh7,Qg8#', 'https://lichess.org/training/ALV9O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AlWQa', 'Rapid', 'bpdbybi', 1857, 'fozey', 1893, 'e4,c5,Nf3,Nc6,Bc4,e6,c3,Nge7,d4,cxd4,cxd4,d5,exd5,exd5,Bb5,a6,Bxc6+,bxc6,Nc3,g6,Be3,Bg7,h3,h6,Qd2,g5,Na4,O-O,O-O-O,Bf5,Rde1,Rb8,Rhg1,Bg6,g4,Nc8,h4,Nb6,Nc5,Nc4,Qc3,Rxb2,Kd1,Bc2+,Ke2,Be4+,Nd2,Rc2,Qb3,Nxd2,Bxd2,Qe7,Nxe4,Qxe4+,Kd1,Rxd2+,Kxd2,Qxd4+,Ke2,gxh4,Kf1,Be5,Qh3,Bf4,Qxh4,Rb8,g5,hxg5', 'Rxg5+,Bxg5,Qxd4', 'https://lichess.org/training/AlWQa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aLwRl', 'Rapid', 'Gewenitim', 2154, 'pedram777', 2150, 'd4,d5,Bf4,Nf6,e3,e6,Nf3,c5,c3,b6,Nbd2,Bb7,Bd3,Bd6,Bg3,O-O,Qe2,Bxg3,hxg3,Ne4,Ne5,f6,Nxe4,dxe4,Bc4,fxe5,Bxe6+,Kh8', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/aLwRl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aLYe4', 'Rapid', 'Leonardocsm2024', 2106, 'charney2', 1933, 'f4,d5,Nf3,g6,e3,Bg7,d4,Nf6,Be2,O-O,O-O,c5,dxc5,Qa5,Nc3,Qxc5,Qd4,Nbd7,b4,Qxd4,Nxd4,a6,a4,Re8,Bb2,e5,Nb3,exf4,exf4,Ne4,Nd1,Bxb2,Nxb2,Ndf6,Bf3,Bf5,c4,Rac8,Rac1,dxc4,Nxc4,b5,Bxe4,Nxe4,axb5,axb5,Nb6,Rb8,Nd5,Kg7,Nc5,Rbc8,Na6,Rc4,Ndc7,Rxc1', 'Nxe8+,Kf8,Rxc1', 'https://lichess.org/training/aLYe4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ALzA5', 'Rapid', 'diarbovi', 2287, 'ptolmorik', 2291, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,a6,e3,b5,b3,Bg4,Be2,e6,O-O,Nbd7,h3,Bh5,a4,b4,Nb1,Bxf3,Bxf3,Bd6,Nd2,e5,e4,exd4,exd5,c5,Re1+,Ne5,Ne4,Nxe4,Bxe4,O-O,Qc2,Qh4,Bd3,Rae8,Bd2,Ng4,Rf1,Re3,Bxe3,dxe3,f4,Nf2,Rxf2,exf2+,Qxf2,Qf6,Re1,Qc3,Bc2,Bxf4,Kh1', 'Bg3,Qxg3,Qxg3', 'https://lichess.org/training/ALzA5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AlZSs', 'Rapid', 'conradoooooo', 2616, 'jesusjokerr', 2141, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd3,Nf6,Nc3,e6,Nf3,d5,exd5,Nb4,Qd2,Nbxd5,Nxd5,Nxd5,Bc4,Bd6,O-O,O-O,Rd1,Qc7,Bxd5,exd5,Qxd5,Bc5,Qe4,Qb6,Nd4,Bd7,c3,Rfe8,Qf3,Bxd4,cxd4,Qxd4,h3,Qa4,b3,Qc6,Qd3,Rad8,Bg5,f6,Bf4,Qc8,Qd5+,Be6,Qa5,a6,Kh2,Rd7,Qh5,Rxd1,Rxd1,Bf7,Qa5,h5,Rd4,Kh7,Be3,Re5,Qd2,Re7,Rd8,Qf5,Qd6,Qe4,Bd4,Re6,Qc7,Re7,Qd6,Qe6,Qb8,Kh6', 'Rh8+,Kg6,Qg3+', 'https://lichess.org/training/AlZSs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('am1mi', 'Blitz', 'mj_koekemoer', 2085, 'lefoudelavalleenoire', 2092, 'e4,c6,d4,d5,exd5,cxd5,h3,Nf6,Bd3,Nc6,c3,e5,dxe5,Nxe5,Nf3,Bd6,O-O,O-O,Bg5,h6,Bxf6,Qxf6,Nxe5,Qxe5,f4,Bc5+,Kh1,Qf6,Nd2,Bf5,Nb3,Bb6,Bxf5,Qxf5,Qf3,Rae8,Rad1,Re3,Qxd5', 'Rxh3+,gxh3,Qxh3#', 'https://lichess.org/training/am1mi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aM4cH', 'Blitz', 'Volchenok', 1737, 'AzimowNurali03', 1679, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,f3,O-O,Qd2,d6,Bc4,Bd7,O-O-O,Nxd4,Bxd4,Bc6,Kb1,Qd7,g4,Rfc8,Bb3,b5,g5,Ne8,Bxg7,Kxg7,h4,a5,h5,a4,Bd5,b4,hxg6,fxg6,Qh2,h5,gxh6+,Kh7,Bxc6,Qxc6,Nd5,b3,cxb3,axb3,a3,Qc2+,Ka1,Rxa3+,bxa3', 'b2+,Ka2,b1=Q#', 'https://lichess.org/training/aM4cH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Am4xR', 'Rapid', 'sephiros002', 1769, 'erol_alp', 1708, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nge7,c3,a6,Ba4,b5,Bc2,d5,d4,exd4,cxd4,Bb6,exd5,Nxd5,Re1+,Be6,Ng5,Bxd4,Nxe6,fxe6,Rxe6+,Nde7,Bg5,Bxf2+,Kxf2,Qxd1,Bxd1,h6,Bxe7,Nxe7,Bf3,Ra7,Nc3,Rf8,Kg1,Kd7,Rae1,Nf5,Bc6+,Kd8,Rd1+,Nd6,Ne4,Rf6,Rxf6,gxf6,Nxd6,cxd6,Rxd6+,Ke7,Rd1,Rc7,Be4,Rc4,Re1,Kd6,Bd3,Rd4,Bc2,Kc5,Re2,b4,Rf2,Rd6,b3,a5,Re2,Rc6,Bd3,Kd4,Bc4,Kc3,Kf2,a4,h3,a3,Re6', 'Rxe6,Bxe6,Kb2,Ke2,Kxa2', 'https://lichess.org/training/Am4xR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('am6qk', 'Blitz', 'IM Funo09', 2700, 'chesstime1111', 2653, 'e4,c5,Nc3,e6,Nf3,a6,d4,cxd4,Nxd4,b5,Bd3,Qb6,Be3,Bc5,Be2,Nc6,Nxc6,Bxe3,fxe3,dxc6,Qd4,Qxd4,exd4,e5,d5,Bb7,O-O-O,Nf6,a3,O-O-O,Bf3,Rhe8,Rhe1,Kc7,h4,h6,Kb1,Rd6,Rd3,Red8,Red1,cxd5,exd5,Bc8,b3,Bf5,Re3,Re8,Rde1,e4,Nxe4,Bxe4,Bxe4,Nxd5,Bxd5,Rxe3,Rxe3,Rxd5,Re7+,Rd7,Re3,Kd6,Kb2,f5,c4,bxc4,bxc4,g5,hxg5,hxg5,Kc3,Rh7,Kb4,Rh1,c5+,Kd7,Rd3+,Kc7,Rd5,Rf1,Ka5,g4,Kxa6,Kc6,Re5,f4,a4,g3,a5', 'f3,gxf3,g2', 'https://lichess.org/training/am6qk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aM6TU', 'Rapid', 'OnceKnightly', 1648, 'Kevinchee', 1726, 'a4,d5,a5,a6,d4,c6,Nc3,e6,e4,Bd6,e5,Bc7,b4,Ne7,Bd2,Nf5,Nf3,O-O,Bd3,Nh4,Bg5', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/aM6TU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aM7x4', 'Rapid', 'tonytwins', 1854, 'paskaljaku', 1852, 'd4,d5,Nf3,Nf6,e3,g6,Be2,Bg7,O-O,O-O,b3,Nbd7,Bb2,c5,Nbd2,a6,c4,b6,Ne5,Bb7,f4,Ne4,cxd5,Bxd5,Nxd7,Qxd7,Nxe4,Bxe4,dxc5', 'Qxd1,Raxd1,Bxb2', 'https://lichess.org/training/aM7x4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Am84w', 'Rapid', 'MichelettoAttendolo', 1714, 'michael1302', 1756, 'd4,d5,Bf4,e6,Nf3,Nf6,h3,c5,e3,cxd4,exd4,Bd6,Ne5,O-O,c3,Nc6,Nd2,Nd7', 'Nxc6,bxc6,Bxd6', 'https://lichess.org/training/Am84w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aM8Hw', 'Rapid', 'ThighBald', 1807, 'Discriminan', 1913, 'e4,e5,Nf3,d6,d4,Qf6,Bg5,Qg6,Nbd2,f6,Bh4,Nh6,dxe5,dxe5,Qe2,Bd6,O-O-O,O-O,Nc4,Be6,Nxd6,cxd6,Rxd6,Bxa2,b3,Nc6,Rxc6,bxc6,Kb2,Bxb3,cxb3,Rfd8,Qc4+,Kh8,Bd3', 'Qxg2,Ra1,Qxf3', 'https://lichess.org/training/aM8Hw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('am9qK', 'Blitz', 'simsimyah', 1693, 'Bugnon', 1643, 'd4,e6,e4,d5,Nc3,dxe4,Nxe4,Nf6,f3,Be7,Bc4,O-O,Ne2,Bd6,O-O,Nbd7,Bg5,h6,Bh4,Be7,c3,Nxe4,Bxe7,Qxe7,fxe4,Nb6,Bd3,Bd7,Ng3,Qg5,Qf3,Bc6,Rae1,Rad8,Nh5,f5,Qh3,fxe4,Rxf8+,Rxf8,Bxe4,Qd2,Qxe6+,Kh8,Bxc6', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/am9qK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AMAM1', 'Classical', 'FinkelFrand', 2274, 'Rectemeros', 1965, 'd4,d5,c4,Nf6,Nc3,g6,cxd5,c6,dxc6,Nxc6,d5,Ne5,e4,Qc7,Nf3,Bg7,Be2,Nxf3+,Bxf3,Ng4,Bxg4,Bxg4,Qd3,Rc8,Bd2,Qb6,Rb1,O-O,O-O,Rfd8,Rfc1,Qd4,Qxd4,Bxd4,Kf1,a6,f3,Bd7,Ke2,Be5,g3,Bh3,b3,e6,dxe6,Bxe6,Nd1,Rxc1,Rxc1,b6,Ne3,Bd4,Rc7,Be5,Rc2,Bd4,Nc4,f5,Be3,fxe4,fxe4,b5,Nd2,Bg4+,Kf2', 'Rf8+,Ke1,Bxe3', 'https://lichess.org/training/AMAM1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AMAoR', 'Rapid', 'utielano', 1799, 'CRAC', 1810, 'Nf3,e6,b3,d5,Bb2,h6,d3,a6,c4,c6,Nbd2,Nf6,g3,Be7,Bg2,O-O,O-O,Bd7,a3,Bc8,b4,Nbd7,c5,b5,cxb6,Nxb6,Nd4,Bb7,N2b3,Na4,Qd2,Nxb2,Qxb2,e5,Nf5,Bd6,Nc5,Bc8,Nxd6,Qxd6,Na4,Rb8,Rac1,a5,Nc5,axb4,axb4,Nd7,d4,e4,f3,Nxc5,dxc5,Qg6,fxe4,dxe4,Rc4,f5,Rd4,Ba6,Rfd1,Qg4,Qa2+,Kh7,Qxa6,Qxe2,Qxc6,Rxb4,Qd6,Rb2,R4d2,Rxd2,Qxd2,Qc4,Qd5,Qe2,c6,e3,c7', 'Qf2+,Kh1,e2', 'https://lichess.org/training/AMAoR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AMAxK', 'Rapid', 'heatherleaf', 1720, 'DerStratege', 1659, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Bd3,Nf6,O-O,h6,b3,e5,Nf3,Be7,Bb2,Nc6,Nbd2,O-O,a4,Qc7,Ba3,Bd7,Nc4,b5,axb5,axb5,Ne3,b4,Bb2,Rxa1,Qxa1,Rc8,Nh4,Nh7,Nhf5,Ng5,Nd5,Qd8,Bb5,Bf8,Bxc6,Bxc6,Nxb4,Bxe4,Ne3,Nf3+,Kh1,Nh4,h3,Qg5,Rg1,f5,Nd3,f4,Ng4,Rxc2,Nb4,Rxf2,Nxf2', 'Bxg2+,Rxg2,Qxg2#', 'https://lichess.org/training/AMAxK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AMbQP', 'Blitz', 'Ali-sobhi', 1867, 'Pionniers', 1826, 'd4,Nf6,c4,c5,Nf3,g6,Nc3,Bg7,Bg5,O-O,e3,d6,Be2,Qa5,O-O,a6,Qc2,Nc6,Rfd1,Nb4,Qa4,Qc7,a3,Nc6,d5,Na7,Qc2,Rb8,b4,b5,bxc5,Qxc5,Rab1,Bd7,Ne4,Nxe4,Qxe4,Bf5,Qxe7,Rfe8,cxb5,Rxe7,Rbc1,Qxa3,Bxe7,Bf8,Bf6,Nxb5,Bxb5,axb5,Nd4,b4,f3,Bd3,h3,Bb5,Nxb5,Rxb5,Rc8,Qb3,Ra1,Rxd5', 'Rxf8+,Kxf8,Ra8#', 'https://lichess.org/training/AMbQP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aMbqy', 'Rapid', 'talukder', 1685, 'krzysiekstasilas', 1649, 'e4,d5,Nf3,dxe4,Ng5,Nf6,Nc3,Bf5,Qe2,Bg4,Qb5+,Nc6,Qxb7,Nd4,Bb5+,Bd7,Bxd7+,Kxd7,O-O,Nxc2,Nxf7,Qb8,Ne5+,Ke6,Qc6+,Kxe5,f4+,Kf5,g4+,Nxg4,Qxe4+,Kf6,Qxc2,Qb6+,Kg2,Qc6+', 'Ne4+,Qxe4+,Qxe4', 'https://lichess.org/training/aMbqy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('amC9u', 'Blitz', 'NM ThunderClap', 2325, 'ST0RMY', 2095, 'Nf3,e6,d4,d5,c4,c6,Qc2,Nf6,g3,Bd6,Bg2,Nbd7,Nbd2,e5,dxe5,Nxe5,Nxe5,Bxe5,O-O,d4,Nf3,Bc7,c5,O-O,Rd1,Bg4,Rxd4,Qe7,Bg5,Bxf3,exf3,h6,Bd2,Rad8,Rxd8,Rxd8,Re1,Qd7,Bc3,Nd5,Rd1,Qe7,Be1,a5,a3,Nf6,f4,Rxd1,Qxd1,g6,Bc3,Nd7,Qd4,f6,b4,Kf7,Bf1,a4,Bc4+,Kg7,Kg2,g5,fxg5,hxg5,Qd2,Qe4+,Kg1,Qxc4,Qxg5+,Kf7,Qh5+,Ke6', 'Qe8+,Kf5,Qxd7+', 'https://lichess.org/training/amC9u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('amD1b', 'Rapid', 'Sand_Krab', 1818, 'byud08', 1841, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Bc5,d3,d6,Nd5,h6,c3,Bg4,h3,Bh5,Nxf6+,Qxf6,b4,Bb6,a4,a6,g4,Bg6,b5,axb5,Bxb5,O-O,O-O,Ne7,Bc4,c6', 'g5,hxg5,Bxg5', 'https://lichess.org/training/amD1b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AmDAg', 'Blitz', 'maia5', 1725, 'lawijter', 1629, 'd4,Nf6,c4,e5,dxe5,Ng4,Nf3,Nc6,Bf4,Bb4+,Nc3,Qe7,h3,Ngxe5,Nxe5,Nxe5,e3,Ng6,Bxc7,d5,Bg3,O-O,cxd5,Bf5,Bd3,Bxd3,Qxd3,Rac8,O-O,Rfd8,e4,h5,Rfe1,h4,Bh2,Ne5,Qd4,Bxc3,bxc3,f6,Bxe5,fxe5,Qxa7,Rxc3,Rab1,Ra3,Rxb7', 'Rxa7,Rxe7,Rxe7', 'https://lichess.org/training/AmDAg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AmDjc', 'Rapid', 'ReiJulian98', 1901, 'Astig', 2010, 'e4,c5,Nf3,e6,Bc4,Nc6,O-O,Nf6,Re1,Nxe4,Rxe4,d5,Bxd5,Qxd5,Nc3,Qf5,d4,cxd4,Nxd4,Nxd4,Qxd4,Bc5,g4,Bxd4,gxf5,e5,Nb5,Bxf5,Rh4,Bb6', 'Nd6+,Kd7,Nxf5', 'https://lichess.org/training/AmDjc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aMDVO', 'Bullet', 'S87144434784', 1649, 'AB123456', 1773, 'e4,c5,Nf3,Nc6,d3,g6,Be2,Bg7,O-O,Nf6,Nc3,O-O,e5,Ng4,d4,cxd4,Nxd4,Ngxe5,Nxc6,Nxc6,Bd3,e6,f4,d5,Qf3,a6,Qg3,b5,h4,e5,f5,e4,fxg6,hxg6,Be2,Nd4,Bg4,Bxg4,Qxg4,Nxc2,Rb1,Qb6+,Kh1,Ne3,Bxe3,Qxe3,Nxd5,Qa7,h5,Rad8,Nf6+,Bxf6,Rxf6,Kg7,Rbf1,Rh8,Rxf7+,Qxf7,Rxf7+,Kxf7,Qxg6+,Ke7,Qxe4+,Kd7,g4,Rhe8,Qb7+,Kd6,Qxa6+,Kc5,Qa3+,Kb6,h6,Re2,Qf3', 'Rd1+,Qf1,Rxf1#', 'https://lichess.org/training/aMDVO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('amF8I', 'Rapid', 'Geraandress', 1739, 'bobgerard2', 1807, 'e4,b6,d4,Bb7,Bd3,c6,Nc3,e6,Nf3,d6,O-O,Be7,Re1,Nf6,e5,Nd5,Nxd5,cxd5,exd6,Bxd6,c3,O-O,Bxh7+,Kxh7,Ng5+,Kg6,Qd3+,Kf6,Nh7+,Ke7,Qf3,Rh8,Bg5+,f6,Nxf6,Bxh2+,Kf1,Ba6+,Re2,Bxe2+,Kxe2,Qf8', 'Nh7+,Ke8,Nxf8', 'https://lichess.org/training/amF8I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aMgXK', 'Rapid', 'Alexlin47', 1614, 'kuning', 1536, 'e4,e5,Nf3,Nc6,d4,exd4,c3,dxc3,Nxc3,Bb4,Bc4,Nf6,Ng5,O-O,Nxh7,Nxh7,O-O,Ne5,Bb3,d6,Nd5,Bc5,h3,Be6,Bc2,c6,Nf4,d5,exd5,cxd5,Qh5,Nf6,Qxe5,Rc8,Bd3,Bd6,Qe2,Re8,Bd2,Bf5,Qf3,Bxd3,Qxd3,Bxf4,Bxf4,Qb6,b3,Re4,Bg5,Rd4,Qf5,Qe6,Qf3,Rc2,Rfe1,Ne4,Be3,Rd3,Rac1,Nd2,Qh5,Rxc1,Rxc1,Ne4,Bxa7,d4,f3,Ng3,Qb5,Ne2+,Kh2,Nxc1,Qxb7,Qe5+,Kg1,Rd1+,Kf2,Qe3+,Kg3,Qg5+,Kh2,Ne2,Qc8+,Kh7,Qc2+,f5,Qxd1,Qg3+,Kh1,Nf4,Qd2,d3,b4', 'Qxg2+,Qxg2,Nxg2,Kxg2,d2', 'https://lichess.org/training/aMgXK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('amHTy', 'Blitz', 'AntaBus0', 2199, 'Lesowik', 2180, 'd4,e6,e4,b6,Nd2,Bb7,Bd3,c5,c3,d6,Ngf3,Nd7,O-O,e5,d5,a5,a4,Ne7,Nc4,Nf6,Qb3,Nc8,Bg5,Be7,Nfd2,Ba6,f4,Bxc4,Nxc4,O-O,fxe5,Nxd5,Bd2,Nc7,Rad1,d5,exd5,Qxd5,Bf4,Qe6,Qc2,g6,Be4,Ra7,b3,b5,Ne3,Nb6,Bg3,bxa4,bxa4,c4,Rf6,Bxf6,Rd6,Qe8,exf6,Nxa4,Ng4,Ra6,Qd2,Rxd6,Qh6,Rd1+,Kf2,Ne6,Be5,Nac5,Qg7+,Nxg7', 'Nh6+,Kh8,fxg7#', 'https://lichess.org/training/amHTy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aMHvc', 'Rapid', 'iampipip', 1721, 'No1sakor', 1819, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Ba4,Bd6,c3,Bb7,b4,Nc4,Bb3,h6,Nxf7,Kxf7,Bxc4+,Kg6,d4,exd4,Qd3+,Kh5,Qf5+,Kh4,Bf7,Re8+,Bxe8,Qxe8+,Kf1', 'Ba6+,b5,Bxb5+,Qxb5,cxb5', 'https://lichess.org/training/aMHvc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AmkqG', 'Rapid', 'Gp002', 1674, 'mohsen9999999', 1746, 'd4,d5,Nf3,Nf6,Bf4,c5,e3,e6,Nbd2,Nc6,c3,Bd6,Ne5,Nxe5', 'dxe5,Bxe5,Bxe5', 'https://lichess.org/training/AmkqG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('amliM', 'Blitz', 'simmoooo', 1967, 'esadsalkic45', 1969, 'd4,d5,c4,dxc4,e3,c5,Bxc4,cxd4,exd4,e6,Nf3,Nf6,O-O,Be7,Nc3,O-O,Bg5,Nc6,Re1,a6,Rc1,b5,Bb3,Bb7,Bxf6,Bxf6,d5,exd5,Nxd5,Bxb2,Rxc6,Bxc6,Ne7+,Kh8,Nxc6,Qxd1,Rxd1,a5,Ng5,h6,Nxf7+,Kh7,Bc2+,g6,Rd7,Bg7,Nfe5,Rac8,Bxg6+,Kh8,Be4,Bxe5', 'Rh7+,Kg8,Ne7#', 'https://lichess.org/training/amliM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AMLqN', 'Rapid', 'atefelsherbiny3', 1632, 'tdogs1', 1602, 'b3,d5,e3,e5,Bb2,f6,c4,Bc5,cxd5,Qxd5,Nc3,Qe6,Bc4,Qd6,Ne4,Qc6,Nxc5,Qxc5,d4,Qb4+,Kf1,Bf5,dxe5,Nc6,exf6,Nxf6,Bxf6,gxf6,Qh5+,Bg6,Qd5,Ne7,Qe6,Bf7,Qxf6,Bxc4+,Ne2,Bxe2+,Kxe2,O-O-O,Qe6+,Kb8,Rac1,Qd2+,Kf3,Rhf8+,Kg3,Qxf2+,Kh3,Ng6,g3,Rde8,Qc4,Rc8,Rhf1,Qxe3,Rf7,Ne5', 'Qxc7+,Rxc7,Rxf8+,Rc8,Rcxc8#', 'https://lichess.org/training/AMLqN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AmM5r', 'Rapid', 'anshah1308', 1903, 'davud115', 1863, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bc5,O-O,d6,Re1,Bg4,Bf4,Nge7,Bxf7+,Kxf7,Ng5+,Kg8,Qxg4,Qc8,Qh5,Ng6,e5,dxe5,Bg3,Qf5,Qf3,Qxg5,Qd5+,Kf8,Qxc5+,Qe7,Qb5,Rb8,Nd2,a6,Qe2,h5,h3,h4,Bh2,Re8,Ne4,Rh6,Rad1,Nf4,Bxf4,exf4,Qf3,Qf7,Nc5,Re5,Rxe5,Nxe5,Qxb7,Rg6,Qc8+,Qe8,Qxc7,f3,g3,hxg3,Ne4,gxf2+,Kf1,Kg8,Kxf2,Kh7,Rg1,Rxg1', 'Nf6+,Kh8,Nxe8', 'https://lichess.org/training/AmM5r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AMmzY', 'Rapid', 'PoppyRose', 1716, 'amanlikekennyken', 1740, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Be3,Nf6,Nc3,Bb4,Bd3,a6,O-O,O-O,Nxc6,bxc6,Bd4,c5,Be5,d5,exd5,exd5,Bxf6,Qxf6,Nxd5,Qg5,Nxb4,Bb7,g3,cxb4,Be2,Rad8,Qc1,Qd5,f3,Qc5+,Kh1,Rfe8,Bd3,Re3,Qd1,Qh5,Bxh7+,Kxh7,Qxd8,Bxf3+,Kg1,Re2,Qd3+', 'Be4,Qxe2,Qxe2', 'https://lichess.org/training/AMmzY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('amn7D', 'Rapid', 'skelout', 1812, 'rajabaz', 1831, 'e4,e5,Nf3,Nc6,d4,d6,dxe5,Qe7,Nc3,dxe5,Bb5,Bd7,Nd5,Qd6,O-O,O-O-O,Be3,Nf6,c4,Nxe4,Qa4,a6,Bxa6,Nb4', 'Bxb7+,Kxb7,Qa7+', 'https://lichess.org/training/amn7D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AMNRJ', 'Rapid', 'majestyc', 1914, 'dannypgh', 1925, 'e4,e6,d4,d5,Bd3,c5,exd5,exd5,dxc5,Bxc5,Nf3,Nf6,c3,O-O,O-O,Bg4,Bg5,Qb6,Bxf6,Qxf6,Nbd2,Nc6,Qa4,Bf5,Bb5,a6,Bxc6,bxc6,h3,Qg6,Nh4,Qg5,Ndf3,Qf6,Nxf5,Qxf5,Qxc6,Rfc8,Qa4,a5,Rae1,h6,Re5,Qd3,Qf4,Bd6,Qe3,Qc4,b3,Qxc3,Qxc3,Rxc3,Rxd5,Bc5,a4,Rc8,Nd2,Bb4,Nc4,Rxb3,Nxa5,Ra3,Nb7,Rxa4,Rd4,Rb8,Nd8,Ra2,Nc6,Bc5,Rc4,Rb5,Ne5,Bxf2+,Rxf2,Rxf2,Kxf2,Rxe5,g4,Kh7,Kf3,Kg6,h4,f6,Kf4,Rd5,h5+,Kf7,Rc7+,Kg8,Re7,Rd4+,Kf5,Rd5+,Ke6,Rd4,Kf5,Kf8,Re2,Kf7,Rc2,Rd5+,Kf4,g6,Rc7+,Ke6,hxg6,Rg5,g7,Kd6,Ra7,Rg6', 'Kf5,Rg5+,Kxf6', 'https://lichess.org/training/AMNRJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aMNvo', 'Rapid', 'SeefAboElLayale', 1702, 'Azatobekzato', 1732, 'e4,c6,d4,d5,exd5,cxd5,Nc3,Bf5,Bd3,Bxd3,Qxd3,e6,Nf3,Nf6,O-O,a6,Bg5,Bd6,Ne2,Nc6,c3,h6,Bf4,Bxf4,Nxf4,Qc7,g3,g5,Ne2,g4,Nd2,h5,Nf4,h4,c4,hxg3,fxg3,Nh5,cxd5,Nxf4,Rxf4,Ne7,dxe6,fxe6,Re1,O-O-O,Nb3,Kb8,Nc5', 'Qxc5,dxc5,Rxd3', 'https://lichess.org/training/aMNvo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aMP2E', 'Classical', 'Slamalamadingdong', 1663, 'khacoz_Tal', 1675, 'e4,e5,Nf3,d6,d4,Nd7,d5,Ngf6,Nc3,Be7,Bb5,O-O,Bg5,h6,Bxf6,Bxf6,Qd3,Nc5,Qc4,a6,Ba4,b5,Bxb5,axb5,Nxb5,Ba6,a4,Qd7,O-O,Bxb5,axb5,Rab8,Ra5,Rb7,b4,Nxe4,Qxe4,Rxb5,Rxb5,Qxb5,Rb1,Rc8,c4,Qb7,c5,dxc5,bxc5,Qa7,c6,Qa2,Re1,Rd8,Rd1,Qb3,Qd3', 'Qxd3,Rxd3,e4', 'https://lichess.org/training/aMP2E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AMPqb', 'Rapid', 'Jordan1968', 1748, 'AlexAng', 1634, 'e4,c6,d4,d5,exd5,cxd5,g3,Bf5,Bg2,e6,b3,Nc6,c3,Rc8,Bb2,Nf6,Nf3,Qb6,O-O,a5,Nh4,Be4,Bxe4,Nxe4,f3,Nf6,f4,Be7,Kg2,h5,Nf3,Ng4,Qd3,h4,Ne5,Ncxe5,fxe5,hxg3,Qxg3,Rxh2+,Kg1,Rxb2,Qxg4,Kd7,Rxf7,Rh8', 'Rxe7+,Kxe7,Qxg7+', 'https://lichess.org/training/AMPqb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aMqMW', 'Rapid', 'momd0098', 1746, 'danieleadriano', 2021, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Nc5,b6,Nb3,e6,Nf3,Nd7,Be2,Be7,O-O,Ngf6,Re1,O-O,c3,h6,Nbd2,c5,Nf1,Qc7,Ng3,Bg6,Be3,Nd5,Bd2,cxd4,Nxd4,a6,Qc1,Bf6,Nf3,Nc5,Qd1,Rfd8,Rc1,b5,Nd4,Na4,Qb3,Nc5,Qd1,Nd3,Bxd3,Bxd3,Bxh6,Bg6,Bd2,Rac8,Ne4,Be7,Qf3,Qc4,b3,Qc7,Qh3,Nf6,Ng3,Qd6,f4,Bf8,f5,exf5,Ngxf5,Bxf5,Qxf5,Rc5,Qf2,Ng4,Qg3,Qxg3,hxg3,b4,Nf3,bxc3,Rxc3', 'Rxd2,Nxd2,Rxc3', 'https://lichess.org/training/aMqMW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AMqsj', 'Classical', 'Defragmented_Pawn', 1976, 'agromo', 2112, 'd4,d5,Nc3,c5,dxc5,e5,Qxd5,Nd7,Nf3,Ngf6,Qc4,Be7,Bg5,O-O,O-O-O,Qc7,b4,h6,Nb5,Qc6,Bh4,a6,Nd6,a5,Bxf6,Bxf6,c3,Qa4,e4,Qa3+,Kd2,axb4,cxb4,Qb2+,Ke3,Rxa2,Rd2,Ra3+,Bd3,Bg5+,Nxg5,Qd4+,Qxd4,exd4+,Kxd4,hxg5,h4,g4,f3,gxf3,gxf3,Nf6,Rc2,Rb3,Nxc8,Rxc8,Kc4,Ra3,Rc3', 'b5+,Kxb5,Rxc3', 'https://lichess.org/training/AMqsj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AMqTj', 'Classical', 'Muhammad_Akhyar', 1689, 'Dragan87', 1681, 'e4,e5,Nf3,d6,Bc4,f5,exf5,Bxf5,d4,e4,Ng5,d5,Be2,h6,Bh5+,g6,Bxg6+,Bxg6,Qg4,hxg5,Bxg5,Be7,Bxe7,Qxe7,Qxg6+,Kd8,Nc3,Nc6,O-O,Qb4,Nxd5,Qxd4,Rad1,Qe5,Rfe1,Nd4,Rxe4', 'Qxh2+,Kf1,Qh1#', 'https://lichess.org/training/AMqTj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aMQu4', 'Rapid', 'Zorge69', 2128, 'Ilyas_T', 2173, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,Nf3,O-O,e3,b6,Ne5,Bb7,f3,Nbd7,Nxd7,Nxd7,Bf4,Bh4+,Bg3,Bxg3+,hxg3,Qg5,Kf2,dxc4,Bxc4,c5,Bd3,h6,Ne4,Qe7,dxc5,Nxc5,Nxc5,Qxc5,Rc1,Qe5,Qe2,Rac8,b3,Rc3,Bb1,Rfc8,Rcd1,Ba6,Qd2,Qf6,Qd7,Qg5,Qd2,Bb5,Rh4,Be8,Rd4,f6,Rd8,Qc5,Rxc8,Qxc8,Qd6,Rc6,Qd3,f5,Rd2,Rc7,g4,Rd7,Qe2,Rxd2,Qxd2,Bg6,gxf5,Bxf5,Bxf5,exf5,Qd5+,Kh7,Kg3,Qc7+,f4,Qc8,Kf3,Qf8,g4,fxg4+,Kxg4,Qc8+', 'Qf5+,Qxf5+,Kxf5', 'https://lichess.org/training/aMQu4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aMrxu', 'Rapid', 'U_jangir', 1646, 'medotoni46', 1715, 'd4,g6,Nf3,Bg7,c3,Nf6,Nbd2,O-O,e4,d6,Bd3,Nc6,a4,e5,d5,Ne7,h3,c6,Bc4,cxd5,exd5,Nexd5,Nb3,Nf4,Bxf4,exf4,O-O,d5,Bb5,a6,Bd3,Ne4,Bxe4,dxe4,Nfd4,f3,g3,Bxh3,Re1,Qg5,Rxe4,Qh5', 'Rh4,Qd5,Rxh3', 'https://lichess.org/training/aMrxu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AMSxd', 'Rapid', 'ibv1984', 1807, 'maxzodiak', 1702, 'e4,c5,Nf3,d6,d4,Nf6,Nc3,cxd4,Qxd4,Nc6,Qd1,Bg4,Be2,e6,O-O,a6,h3,Bh5,a3,b5,Bf4,Be7,Bg5,O-O,Qc1,Nd4,Nxd4,Qb6,Bxf6,Bxe2,Ndxe2,Bxf6,Ng3,Rac8,Qd1,Bd4,Qf3,g6,Rad1,Be5,h4,h5,Qe3', 'Qxe3,fxe3,Bxg3', 'https://lichess.org/training/AMSxd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('amuYE', 'Rapid', 'avas', 1803, 'Pranipus', 1914, 'Nc3,g6,e4,Bg7,f4,d6,Nf3,e6,d4,Ne7,Bd3,O-O,g4,Nbc6,Be3,a6,h4,b5,Ne2,Nb4,c3,Nxd3+,Qxd3,Bb7,Rh3,Rc8,h5,c5,hxg6,fxg6,Ng5,cxd4,cxd4,Nc6,Nxe6,Qe7,f5', 'Nb4,Qb3,Nc2+', 'https://lichess.org/training/amuYE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('amVFp', 'Rapid', 'jjjamelb', 1664, 'anugy', 1969, 'e4,e5,Bc4,Nf6,d3,c6,Bg5,Be7,Bxf6,Bxf6,Nc3,b5,Bb3,a5,a3,O-O,Nge2,Bb7,Ng3,Na6,Nh5,Bg5,O-O,g6,f4,exf4,Nxf4,b4,axb4,Nxb4,Nh3,Bh6,Na4,d5,c3,Na6,d4,dxe4,Nc5,Nxc5,dxc5,Qxd1,Raxd1,Be3+,Kh1,Bxc5,Rd7,Bc8,Rdxf7,Rxf7,Rxf7,a4', 'Ra7+,Kf8,Rxa8', 'https://lichess.org/training/amVFp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AMwQc', 'Rapid', 'fumierdlapin', 1797, 'nileshvyas', 1797, 'e4,e5,f4,d6,Nf3,Nc6,Bc4,Nf6,Nc3,Be6,Bb5,a6,Bxc6+,bxc6,fxe5,dxe5,Nxe5,Nxe4,Nxe4,Qh4+,Ng3,Bd6,Nf3', 'Bxg3+,Ke2,Qe4+', 'https://lichess.org/training/AMwQc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aMyCc', 'Rapid', 'whynotzoidberg', 1700, 'Ower1995', 1824, 'e4,b6,Nf3,Bb7,Nc3,e6,d4,Nf6,Bd3,Be7,O-O,O-O,Bf4,d6,Re1,Nbd7,b4,Rc8,a4,c5,bxc5,dxc5,Nb5,c4,Bf1,Nh5,Bd6,Ba6,Bxe7,Qxe7,d5,Bxb5,axb5,e5,Rxa7,Qd6,Nd2,Nf4,Nxc4,Rxc4,Bxc4,Qg6,Bf1', 'Nh3+,Kh1,Nxf2+', 'https://lichess.org/training/aMyCc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AMYpR', 'Blitz', 'Aleksboo', 1876, 'mylau', 1784, 'e4,e5,d4,exd4,c3,Nf6,e5,Qe7,Nf3,dxc3,Nxc3,d6,Bc4,Be6,Bxe6,Qxe6,O-O,dxe5,Nb5,Bd6,Ng5,Qd5,Nxd6+,cxd6,Qb3,O-O,Qh3,h6,Nf3,Nbd7,Bxh6,gxh6,Qxh6,Nh7,Rad1,Qe6,Qh4,Qf6,Qg3+,Qg6,Qh3,Nc5,Nh4,Qg5,Rxd6,Rad8,Nf3,Qf4,Rh6,Ng5', 'Rh8+,Kg7,Qh6#', 'https://lichess.org/training/AMYpR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('an0jn', 'Rapid', 'imanmasoom', 1801, 'Ivan67aa', 1848, 'd4,d5,c4,e5,dxe5,d4,Nf3,Bb4+,Bd2,Nc6,Bxb4,Nxb4,a3,Nc6,g3,Nge7,Bg2,O-O,O-O,Ng6,Qc2,Ngxe5,Nxe5,Nxe5,Rd1,c5,b4,b6,Bxa8,g6,Bg2,Qf6,Nd2,Ng4,Nf3,Bb7,Qd3,Re8,bxc5,bxc5,h3,Ne5,Nxe5,Bxg2,Ng4,Qc6,f3,Bxh3,Kh2,Bxg4,fxg4,Qe6,Re1,Qxg4,Qf3,Qg5,Rf1,f5,Qd5+,Kh8,Qf3,Qd2,Qd3', 'Rxe2+,Qxe2,Qxe2+', 'https://lichess.org/training/an0jn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AN0pD', 'Rapid', 'Apalu_Ali', 2122, 'Pasithea', 2045, 'e4,e5,f4,Nc6,Nf3,d6,Bb5,f6,O-O,Bd7,Nc3,a6,Ba4,Qe7,Nd5,Qd8,c3,Nge7,Nxe7,Qxe7,d4,O-O-O,Bc2,g6,a4,h5,b4,Na7,Qe2,h4,c4,Bg4,d5,f5,exf5,gxf5,fxe5,dxe5,Qxe5,h3,Bxf5+,Bxf5,Qxf5+,Kb8,Bd2,hxg2,Rfe1,Qd6,Re6,Qd7,Ne5,Qg7,Bg5,Bxb4,Bxd8', 'Bc5+,Qf2,Bxf2+', 'https://lichess.org/training/AN0pD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aN52I', 'Rapid', 'Nicoley', 1665, 'Lofabex', 1684, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Bb5,Bd7,Nxc6,Bxc6,Bxc6+,bxc6,Qf3,e5,O-O,Nf6,Bg5,Be7,Nc3,O-O,Rfe1,Rb8,b3,h6,Bxf6,Bxf6,Qg4,Qa5,Re3,d5,Rg3,dxe4,Nxe4,Qd8,Rh3,Bg5,Re1', 'f5,Qe2,fxe4', 'https://lichess.org/training/aN52I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('an7dv', 'Rapid', 'Korons20', 2076, 'afr64', 2115, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,O-O,Bd2,d6,Nge2,e5,a3,Bxc3,Bxc3,Ne4,dxe5,Nxc3,Nxc3,dxe5,Be2,Be6,O-O,c6,Ne4,Qe7,Qd6,Re8,Rfd1,Nd7,Qxe7,Rxe7,Ng5,Nf8,Nxe6,Nxe6,Rd2,Kf8,Rad1,Ke8,Bg4,Rd8,Bxe6,Rxd2,Bxf7+,Rxf7,Rxd2,Ke7,f3,Ke6,e4,b6,Kf2,g5,Ke3,h5,g3,Rf8,h3,Rh8,b3,a5,f4,gxf4+,gxf4,exf4+,Kxf4,Rf8+,Ke3,Rg8,Kf4,Rf8+,Ke3,Rg8,Rf2,Rg3+,Rf3,Rg1,a4,Rb1,Kf4,Rg1,e5,Re1,Rg3,Rf1+,Kg5,Rf5+,Kh4,Kxe5', 'Rg5,Rxg5,Kxg5', 'https://lichess.org/training/an7dv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('An8qW', 'Rapid', 'iraheta', 1734, 'slavskiysn', 1726, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nb3,Bb6,Nc3,d6,Bc4,Be6,Qe2,Qe7,Bf4,g5,Bg3,h5,h3,h4,Bh2,O-O-O,O-O-O,Nh6,Bb5,Ne5,Nd5,Bxd5,exd5,f5,Nd4,Bxd4,Rxd4,f4,f3,Nf5,Re4,a6,Bd3,Qf7,Rb4,Rhe8,Bxf5+,Qxf5,Qf2,Kb8,Re1,Nd7,Rxe8,Rxe8,Bg1,Nc5,Qd2,Qe5,Bxc5,dxc5,Re4,Qh8,Qd3,Rd8,Rc4,b6,Re4,a5,c4,Qf8,Qc3,Qd6,Qe5,Qxe5,Rxe5,Rg8,a4,Kc8,Kd2,Kd7,Kd3,Kd6,Ke4,Kd7,b3,c6,dxc6+,Kxc6,Re6+,Kc7,Kf5,Kb7,Rg6,Rd8,Kxg5,Rd3,Kxh4,Rxb3,Kg4,Ra3,h4,Rxa4,h5,Rxc4,h6,Rc1,Rg7+,Kc6,h7,Rh1,Kg5,c4', 'Rg6+,Kc5,Rh6,Rxh6,Kxh6', 'https://lichess.org/training/An8qW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aNak6', 'Blitz', 'El_Zocco', 1664, 'JohnBerlin', 1527, 'e4,Nc6,f4,e5,d3,Nd4,Nf3,Nxf3+,Qxf3,d6,Be2,Nf6,O-O,Bg4,Qf2,Bxe2,Qxe2,Be7,f5,Qd7,Nc3,a6,Bg5,O-O,Bxf6,Bxf6,Nd5,Bd8,Rf3,c6,Ne3,f6,Rg3,Kh8,Rf1,Rg8,Ng4,b5,a3,c5,c3,d5,Rh3,d4,Rff3,a5,Rfg3,b4,c4,bxa3,bxa3,Qa4,Qb2,Qd1+,Kf2,Be7', 'Rxh7+,Kxh7,Rh3#', 'https://lichess.org/training/aNak6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ANarL', 'Rapid', 'kseyfi', 1627, 'fakecowid', 1582, 'e4,g6,Bc4,Nf6,e5,Ne4,d4,d5,Bb3,h6,h3,Nc6,c3,e6,Nd2,Nxf2,Kxf2,Bg7,Qf3,f6,Qg4,g5,Ndf3,f5,Qh5+,Kd7,Qf7+,Qe7,Qxe7+,Nxe7,Ne2,b5,a4,Bb7,axb5,a6,bxa6,Bxa6,Ng3,Ng6,Ba4+,c6,Nh5,Bf8,Nf6+,Kc7,g3,Be7,b3,c5,Be3,Bd3,dxc5,Be4,Rhb1,Bxf3,Kxf3,Nxe5+,Ke2,Bxf6,b4,Nc4,Rc1,Nxe3,Kxe3,g4,h4,Rhd8,Ra2,d4+,cxd4,Rxd4,Rd1,Rxb4,Rd7+,Kb8,Rf7,Bd4+,Kd3,Bxc5,Rc2,Rd4+,Ke2,Ra5,Rb2+,Kc8,Bd7+,Kc7,Bxe6+,Kd6,Bxf5,Bb4', 'Rd7+,Ke5,Rxd4,Bc3,Re4+,Kxf5,Rf4+', 'https://lichess.org/training/ANarL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AnbrL', 'Rapid', 'Kwad4', 1922, 'barents', 2038, 'g3,f5,Bg2,Nf6,e3,d5,Nf3,e6,d4,c5,Nbd2,Nc6,c4,cxd4,exd4,Bb4,O-O,O-O,cxd5,exd5,a3,Be7,Nb3,Ne4,Ne5,Bf6,Bf4,g5,Nxc6,bxc6,Be3,Rb8,f3,Nd6,Nc5,Rxb2,Qa4,Qb6,Rac1,Nc4,Rxc4,dxc4,Qxc4+,Kh8,Na4,Qb5,Nxb2,Qxb2,Qc5,Rd8,Qxc6,Bxd4,Bxd4+,Qxd4+,Kh1,f4,gxf4,gxf4,Qc1,Ba6,Re1,Qd2', 'Re8+,Rxe8,Qxd2', 'https://lichess.org/training/AnbrL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('anBZh', 'Rapid', 'hierosgamos', 1737, 'yunus-emre-ozkul', 1758, 'd3,d6,c4,Nd7,b4,g6,a3,Bg7,Ra2,c6,Bb2,e5,f4,Qc7,Nf3,Ne7,g3,O-O,Bg2,h6,O-O,Kh7,Qc2,f5,Nbd2,d5,c5,e4,Bxg7,Kxg7,Qc3+,Kh7,Ne5,Nxe5,fxe5,g5,dxe4,f4,gxf4,gxf4,Nf3,dxe4,Nh4,f3,exf3,exf3,Qc2+,Nf5,Nxf3,Kg7,Qc3,Be6,Bh3,Kh7,Qc2,Rg8+,Kh1,Raf8,Nh4,Bd5+,Bg2,Bxg2+,Nxg2,Qxe5,Rf4', 'Rxg2,Qxg2,Qxf4', 'https://lichess.org/training/anBZh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('anCBh', 'Rapid', 'solo_chess', 1677, 'Hiersi2000', 1738, 'e4,e5,Nf3,Nc6,Bb5,Bd6,Nc3,Nd4,d3,Nxb5,Nxb5,Bc5,O-O,d6,c3,a6,Na3,Ba7,Be3,Bxe3,fxe3,Bg4,d4,Nf6,h3,Bh5,dxe5,Nxe4,exd6,cxd6', 'Qa4+,Qd7,Qxe4+', 'https://lichess.org/training/anCBh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ANdwo', 'Rapid', 'Stefanxd', 1772, 'mansouri95', 1802, 'd4,f5,c4,Nf6,Nc3,e6,Nf3,c6,e3,d5,cxd5,cxd5,Bb5+,Nc6,Ne5,Bd7,Nxd7,Qxd7,O-O,a6,Ba4,b5,Bb3,Na5,Bc2,Bd6,Bd2,Nc4,Bd3,O-O,Bxc4,bxc4,Ne2,Ne4,f3,Nf6,b3,Rfc8,bxc4,Rxc4,Rc1,Rac8,Rxc4,Rxc4,Qb1,Qc7,f4,Ne4,Be1,Rc2,Ng3,Nf6,h3,g5,fxg5,Bxg3', 'Bxg3,Qxg3,Qxc2', 'https://lichess.org/training/ANdwo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AndZl', 'Rapid', 'Sazuna', 2243, 'QuadriplegicCow', 1988, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Nc3,Nxc3,dxc3,Be7,Bd3,O-O,h4,Re8,Be3,Nd7,Qd2,Nf6,O-O-O,Bg4,Rde1,d5,Ne5,Be6,f3,c5,g4,c4,Bf1,b5,g5,Nh5,Rg1,Bf5,f4,a5,Be2,g6,Bxh5,gxh5,g6,hxg6,Qe2,Kf8,Qf2,Bxh4,Bc5+,Kg7,Qd4,Bf6,Rh1,Bxe5,fxe5,Be4,Rhf1,Re6,Rf4,Qg5,Rf1,Rb8,Kb1,Rb7,Qf2,f5,exf6+,Kf7,Bd4,b4,Rg1,Qh6,Qe3,b3', 'Rxe4,Qxe3,Rxe3,Rxe3,Bxe3', 'https://lichess.org/training/AndZl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('anECO', 'Rapid', 'diegodon', 2200, 'Prolina', 2073, 'd4,d5,c4,c6,Nf3,Nf6,e3,e6,Nc3,Nbd7,Qc2,Bd6,g4,h6,Bd2,a6,O-O-O,b5,c5,Bc7,Rg1,e5,g5,hxg5,Rxg5,e4,Ne5,Nxe5,dxe5,Nh7,Rxg7,Bxe5,Rg2,Bf5,f4,Bf6,Be2,Qd7,Rdg1,O-O-O,Bg4,Be7,Ne2,Nf6,Bxf5,Qxf5,Nd4,Qd7,Qc3,Kb7,Qa5,Qc7', 'Qxc7+,Kxc7,Ba5+,Kd7,Bxd8', 'https://lichess.org/training/anECO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AnfoR', 'Blitz', 'JBH69', 1867, 'aliboubakri', 1783, 'f4,e6,Nf3,c5,e3,Nc6,b3,d5,Bb2,Nf6,Bb5,Bd7,O-O,Be7,d3,O-O,Bxc6,Bxc6,Nbd2,Qc7,Ne5,Rad8,Qe1,a6,a4,b5,axb5,axb5,Ndf3,c4,dxc4,dxc4,bxc4,bxc4,Nxc4,Bxf3,Rxf3,Qxc4,Be5,Qxc2,Ra7,Nd5,Rg3,Bc5,Rxg7+,Kh8,Rg3+,f6,Rb7,fxe5,Rgg7,Nf6,fxe5,Bxe3+,Kh1,Bh6,exf6,Bxg7', 'fxg7+,Kg8,Qxe6+,Rf7,Qxf7#', 'https://lichess.org/training/AnfoR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('anFtV', 'Classical', 'Scarsen', 1753, 'adeltaill', 1615, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bc4,Nf6,Nf3,e6,O-O,Bc5,Bf4,O-O,e5,Ne8,Ne4,Bb6,Neg5,h6,Qd3,hxg5', 'Nxg5,Qxg5,Bxg5', 'https://lichess.org/training/anFtV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AngE7', 'Rapid', 'poldafe', 1894, 'idiota1974', 1993, 'd4,c5,d5,Nf6,Nf3,b5,Bg5,Ne4,Bh4,Bb7,e3,g6,Be2,Bg7,c3,O-O,O-O,b4,Qd3,f5,Rd1,Ba6,Qc2,Bxe2,Qxe2,bxc3,Nxc3,Nxc3,bxc3,Bxc3,d6,Bf6,Bxf6,Rxf6,Qc4+,e6,Qxc5,Nc6,Rab1,Rb8,a4,Rf8,Rb5,a6,Rbb1,Qf6,Qc4,a5,Rb5,Rfc8,Rdb1,Rxb5,axb5,Ne7', 'dxe7,Rxc4,e8=Q+', 'https://lichess.org/training/AngE7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ANHqm', 'Rapid', 'brudi', 1790, 'chessnickname', 1865, 'e4,b6,d4,Bb7,Nc3,e6,Nf3,Bb4,Bd3,Nf6,e5,Nd5,Bd2,Nxc3,Bxc3,Bxc3+,bxc3,d6,O-O,Nd7,exd6,cxd6,c4,Rc8,Qe2,a6,a4,O-O,Be4,Bxe4,Qxe4,Nf6,Qe2,d5,cxd5,Nxd5,c4,Nb4,Rfc1,a5,c5,bxc5,dxc5,Qd5,Qb5,Nd3,Rd1,Rfd8,Ra3,Rxc5,Qb6,Rc1,Ra1,Rxa1,Rxa1,Nc5,h3,g6,Qxa5,Qd6,g3', 'Nb3,Qxd8+,Qxd8', 'https://lichess.org/training/ANHqm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AnHQR', 'Rapid', 'Blackhavvk', 1699, 'Cifaretto', 1725, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nxc6,bxc6,Nc3,Nf6,Bg5,e5,Qd2,d5,exd5,cxd5,Nxd5', 'Qxd5,Qxd5,Nxd5', 'https://lichess.org/training/AnHQR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ANhz0', 'Rapid', 'cplyakap1905', 2282, 'GeorgeK13', 2101, 'Nf3,d5,g3,Nf6,Bg2,g6,O-O,Bg7,d4,O-O,Bg5,h6,Bxf6,Bxf6,Nbd2,c6,c4,Bg7,cxd5,cxd5,Rc1,Nc6,e3,Qd6,a3,b6,b4,Bb7,Qb3,e6,Rb1,Rfc8,b5,Na5,Qb2,Nc4,Nxc4,Rxc4,Nd2,Rc7,Rfc1,Rac8,Nb3,Rc4,Rxc4,Rxc4,Bf1,Rc8,a4,Qb4,Qa2,Qe7,a5,Rc3,axb6,axb6,Qa7,Qc7,Nd2,Bf8,Nf3', 'Ra3,Ra1,Rxa7', 'https://lichess.org/training/ANhz0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ANJVy', 'Blitz', 'tocke94', 2037, 'Bouvard', 2035, 'd4,d6,Bf4,Nf6,Nf3,g6,Nc3,Bg7,e4,O-O,Bc4,Bg4,h3,Bxf3,Qxf3,Nc6,d5,Ne5,Bxe5,dxe5,O-O,a6,a4,Qd6,Qd3,Rfd8,Rfd1,Nh5,g4,Nf4,Qf3,Qc5,b3,c6,dxc6,bxc6,Ne2,Nxe2+,Qxe2,a5,Qf3,e6,Rxd8+,Rxd8,Rd1,Rxd1+,Qxd1,Qd4,Bd3,Bf8,Qe2,Bc5,Kg2,f5,gxf5,exf5,exf5,e4,Bc4+,Kg7,fxg6,hxg6,Kf1,Qa1+,Kg2,Qe5,f3', 'Qg5+,Kf1,Qg1#', 'https://lichess.org/training/ANJVy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ank36', 'Rapid', 'Chess_M1', 1683, 'fourchette63', 1694, 'd4,d5,c4,Bg4,cxd5,Qxd5,Nc3,Qd8,Qd3,c6,Nf3,f6,e4,e6,Be2,Bd6,O-O,Ne7,e5,Bc7,Bf4,f5,Nd2,Bxe2,Qxe2,O-O,Qf3,h6,Qg3,g5,Nf3,Kh7,Bxg5,hxg5,Qxg5,Ng6', 'Qh5+,Kg7,Ng5,Qxg5,Qxg5', 'https://lichess.org/training/Ank36');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ANL7x', 'Rapid', 'Marcozzi', 1704, 'lautaroMDZ986', 1646, 'd4,Nf6,Nc3,g6,e4,d6,Nf3,Bg7,Bc4,a6,O-O,b5,Bb3,O-O,a3,c5,Be3,cxd4,Bxd4,e5,Be3,Bb7,Nd5,Nxd5,exd5,e4,Ng5,h6,Nh3,Bc8,Nf4,g5,Ne2,f5,c3,f4,Bd4,f3,gxf3,exf3,Ng3,Qd7,Kh1,Qh3,Rg1,Bxd4,Qxd4', 'Rf4,Qxf4,gxf4', 'https://lichess.org/training/ANL7x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aNlTj', 'Rapid', 'knight2033', 1998, 'SynthwaveCreator', 2026, 'd4,d5,Nf3,e6,Bf4,Nf6,Nc3,c5,dxc5,Bxc5,e3,Qa5,Bd3,Ne4,Bxe4,dxe4,Nd2,Qa6,Nb3,Be7,Qe2,Qxe2+,Nxe2,O-O,O-O,b6,Rad1,Bb7,h3,Rd8,Rxd8+,Bxd8,Rd1,Nc6,Rd7,Ba6,Ned4,Nxd4,Nxd4,Bf6,c3', 'e5,Bxe5,Bxe5', 'https://lichess.org/training/aNlTj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('anLWL', 'Blitz', 'peregrinogris', 2178, 'eye2', 2166, 'd4,b5,e3,a6,Nf3,Bb7,c4,d6,cxb5,axb5,Bxb5+,c6,Bd3,d5,O-O,Nf6,Nc3,g6,a3,Bg7,b4,Nbd7,Qb3,O-O,b5,c5,Be2,Re8,a4,e5,a5,c4,Qb2,e4,Nd2,Rxa5,Rxa5,Qxa5,Qc2,Ra8,Bb2,Qb4,h3,Bf8,f3,Nb6,fxe4,Nxe4,Ncxe4,dxe4,Bc3,Qxb5,Nxe4,Qb3,Nf6+,Kg7,Qxb3,cxb3,d5,Rc8,Nh5+,Kh6,Bd4,Nxd5,Nf6,Nxf6,Rxf6,Bd5,h4,Bg7,g4,Bxf6,Bxf6,g5', 'hxg5+,Kg6,Bd3+,Be4,Bxe4#', 'https://lichess.org/training/anLWL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AnmB5', 'Blitz', 'SteveL99', 2145, 'sale_krvolok', 2181, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Qc7,Be3,a6,Be2,Nf6,O-O,Bb4,Nxc6,bxc6,f3,d5,Qd3,Bd6,f4,Nd7,e5,Be7,Bf2,g6,Rad1,c5,b3,Bb7,Bf3,h5,Rfe1,Rc8,Na4,c4,Qc3,Bc6,Nb2,O-O,bxc4,Bb7,Qb3,Nc5,Bxc5,Bxc5+,Kh1,Rb8,cxd5,Bxd5,Qc3,Bxf3,gxf3,Rfc8,Nd3,Be7,Qxc7,Rxc7,Rb1,Rbc8,Nb4,a5,Na6,Rxc2,Rb7,Bh4,Rd1,Rxa2,Nc7,Rc2,Rd7,Rf2,Ra7,Ra2,Ra8,Rxa8,Nxa8,a4,Nc7,Bf2,Ne8,a3,Nf6+,Kg7,Rd8,g5', 'Rg8+,Kh6,fxg5#', 'https://lichess.org/training/AnmB5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aNmFZ', 'Rapid', 'heisen123', 1849, 'JossMann', 1803, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Bd3,Qc7,O-O,Nc6,c3,Be7,Re1,Nf6,Nxc6,bxc6,e5,Nd5,a3,O-O,Bd2,Bb7,a4,f6,Qh5,g6', 'Bxg6,hxg6,Qxg6+', 'https://lichess.org/training/aNmFZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('anmyu', 'Classical', 'Dersim111', 1944, 'RomanGear', 1928, 'e4,c5,Nf3,Nc6,Bb5,Nf6,e5,Nd5,O-O,e6,Nc3,Nc7,Re1,Be7,d4,cxd4,Nxd4,O-O,Bf4,a6,Ba4,b5,Bb3,Bb7,Ne4,f6,exf6,Bxf6,Nxc6,Bxc6,Bd6,Be7,c3,Nd5,Bc2,Bxd6,Nxd6,Qh4,g3,Qh3,Qd3,g6,Qf1,Qxf1+,Kxf1,Nf6,f4,Ne8,Rad1,Nxd6,Rxd6,Rf6,Bb3,Bf3,Kf2,Bc6,Bxe6+,Rxe6', 'Rexe6,dxe6,Rxc6', 'https://lichess.org/training/anmyu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ANN9P', 'Blitz', 'stingreystar', 1954, 'Reyflower123', 2071, 'e4,c5,Nf3,d6,d4,c4,Bxc4,e6,O-O,Nf6,Bg5,Be7,Nc3,O-O,Bd3,Nc6,e5,dxe5,dxe5,Ng4,Bxe7,Qxe7,Nd4,Ngxe5,Nxc6,bxc6,Bxh7+,Kxh7,Qh5+,Kg8,Qxe5,Bb7,f4,c5,f5,Qg5,Ne4,Bxe4,Qxe4,exf5,Qe5,g6,Rf3,Rae8,Qxc5,Qd2,Rd3', 'Re1+,Rxe1,Qxe1#', 'https://lichess.org/training/ANN9P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('anOIe', 'Rapid', 'amid-008', 1746, 'veky', 1655, 'e4,e5,d4,exd4,Nf3,Nc6,Bc4,Bc5,c3,dxc3,Bxf7+,Kxf7,Qd5+,Ke8,Qxc5,cxb2,Bxb2,d6,Qe3,Nf6,O-O,Bg4,Nd4,Ne5,h3,Bd7,Nd2,a6,Rae1,Bb5,Nxb5,axb5,f4,Nc4,Nxc4,bxc4,e5,Nd5,exd6+,Nxe3,Rxe3+,Kd7,dxc7,Kxc7,Be5+,Kc8,Rc1,Qb6,Rxc4+,Kd7,Rc7+,Ke6', 'Bd4+,Kd6,Bxb6', 'https://lichess.org/training/anOIe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('anpZG', 'Rapid', 'DonWon671', 1654, 'SeroZeleniy', 1601, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,Nf6,d5,a6,Bxc6+,bxc6,dxc6,Nxe4,O-O,Be7,Re1,Nc5,Nc3,O-O,h3,Ne6,Nd5,Re8,c4,a5,b4,axb4,Nxb4,Nf4,Nd5,Nxh3+,gxh3,Bxh3,Nxe7+,Qxe7,Ng5,Be6,Nxe6,Qxe6,Qd5,Qg6+,Qg2,Qc2,Bh6,g6,Qg5,Qxc4,Qf6', 'Qg4+,Kh2,Qh5+', 'https://lichess.org/training/anpZG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AnQvA', 'Classical', 'I_Only_Play_vs_E4', 2037, 'ahmednegida', 1933, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,b4,Be6,Bxe6,fxe6,O-O,e5,Qd5,Rb8,f4,Nf6,Qd3,Be7,Qc4,Qd7,fxe5,dxe5,Bb2,Ng4,Qf7+,Kd8,Qxg7', 'Bc5+,bxc5,Qxg7', 'https://lichess.org/training/AnQvA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AnRL8', 'Blitz', 'unlut', 1840, 'Oprenovic', 1935, 'd4,Nf6,c4,e6,Nc3,Be7,Nf3,d5,Bg5,O-O,e3,h6,Bxf6,Bxf6,Rc1,c6,Bd3,dxc4,Bxc4,Nd7,O-O,e5,dxe5,Nxe5,Nxe5,Bxe5,Qb3,Qf6,f4,Bc7,Rcd1,Qg6,Bd3,Qf6,Ne4,Qh4,Ng3,Bb6,Rfe1,Be6,Bc4,Bxc4,Qxc4,Rfe8,Qb3,Qf6,a4,Re7,Nh5,Qg6,Ng3,Rae8,Rd3,h5,Kh1,h4,Nf1,Re4,a5,Bxa5,Ra1,Bb6,Rd7,Bxe3,Rxb7,Bxf4,Raxa7,Re1,Qf3,Be5,Rxf7,Bf6,h3,Qb1', 'Rxg7+,Bxg7,Qf7+,Kh8,Qxg7#', 'https://lichess.org/training/AnRL8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('anRWg', 'Rapid', 'marian272', 1928, 'gokai', 1998, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,d4,Bg4,Be2,e6,Bg5,Be7,O-O,Nbd7,Qd2,h6,Bh4,O-O,Rad1,c6,Ne5,Bf5,Bd3,Bxd3,Qxd3,Nxe5,dxe5,Nd5,Bxe7,Qxe7,Rfe1,Rad8,Nxd5,Rxd5,Qb3,Rb5,Qc3,Qb4,Qxb4,Rxb4,b3,Rb5,h3,Rd5,Rxd5,exd5,f4,Re8,c3,g5,g3,Kg7,a4,Kg6,b4,Kf5,g4+,Kxf4,Rf1+,Kxe5', 'Re1+,Kf4,Rxe8', 'https://lichess.org/training/anRWg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aNRyi', 'Rapid', 'imahgoub', 1873, 'threemartlets', 1737, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nf3,Nf6,d4,c6,Be2,Bf5,O-O,e6,Bg5,Be7,Qd2,O-O,Rad1,Nd5,Nxd5,Bxg5,Nxg5,cxd5,Rfe1,Nd7,c4,Nf6,cxd5,Nxd5,Bd3,Qf4,Bxf5,Qxf5,Re5,Qf4,Qd3,g6,g3,Qf6,Rde1,Qd8,Qe4,Nc7,Qh4,h5,g4,Qxd4,R1e4,Qd1+,Kg2,f5,gxf5,Rxf5,Rxf5,exf5,Rd4,Qe2,Nf3,Re8,Rd7,Ne6,Qf6,Nf4+,Kg3,h4+,Kxf4', 'Qe4+,Kg5,Qg4+,Kh6,Qh5#', 'https://lichess.org/training/aNRyi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ANsUx', 'Rapid', 'Myckael', 1702, 'Artola1', 1627, 'd4,Nf6,c4,c5,d5,e6,Nc3,exd5,cxd5,d6,Bg5,g6,e4,Bg7,a4,O-O,Nf3,Bg4,Be2,Bxf3,Bxf3,Nbd7,Qb3,Qb6,Qxb6,Nxb6,a5,Nc4,Be2,Ne5,O-O,a6,Na4,Nxe4,Be7,Rfe8,Bh4,Nd2,Rfd1,Nec4,Bd3,Nxb2,Rxd2,Nxd3,Rad1,Ne5,f4,Nd7,Bg3,f5,Rb1,Rab8,Nb6,Nxb6,Rxb6,Red8,Re2,Rd7,Re6,Rbd8,Bh4,Bd4+,Kf1,c4', 'Bxd8,Bxb6,Bxb6', 'https://lichess.org/training/ANsUx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('answK', 'Blitz', 'FM grinpavl', 2099, 'Chesstraest2008', 2097, 'd4,Nf6,c4,e5,dxe5,Ng4,Bf4,Nc6,Nf3,Bc5,e3,Qe7,Qd5,Nb4,Qd2,Nc6,Nc3,Ngxe5,Nxe5,Nxe5,Be2,c6,O-O,O-O,a3,a5,Ne4,Bb6,Rac1,Ng6,Bf3,Nxf4,exf4,Bc7,Rfe1,Qh4,g3,Qh6,c5,Rd8,Nd6,b6,b4,bxc5,bxc5,Ba6,Re7,Bxd6,cxd6,Qf6,Rc5,Qa1+,Kg2', 'Qf1#', 'https://lichess.org/training/answK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aNtJz', 'Blitz', 'buhletati', 2103, 'dame_0', 2101, 'e4,c5,c3,d5,exd5,Qxd5,d3,Nc6,Nf3,Nf6,Be2,Bg4,h3,Bh5,O-O,e6,Na3,Be7,Nb5,Qd7,d4,cxd4,Nbxd4,Nxd4,Nxd4,Bxe2,Qxe2,O-O,Bg5,h6,Bh4,Nd5,Rad1,Bxh4,c4,Nf4,Qf3,Bg5,h4,Ng6,hxg5,hxg5,Rfe1,Qc7,Qc3,Rfd8,b3,a6,a4,Qc5,Nf3,g4,Nh2,Qh5,Qg3,Ne5,Qxe5,Qxe5', 'Rxd8+,Rxd8,Rxe5,Rd1+,Nf1', 'https://lichess.org/training/aNtJz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('anu4K', 'Classical', 'VeryStableGen1us', 2041, 'pegasus_knight', 2021, 'e4,c5,Nc3,e6,f4,d5,Nf3,dxe4,Nxe4,Nc6,Bb5,Bd7,d3,Nf6,O-O,Be7,Qe1,O-O,Be3,Nb4,Bxd7,Nxc2,Qf2,Nxa1,Ba4,Qa5,Bd1,Ng4,Qe2,Nxe3,Qxe3,Qxa2,Nfg5,Nb3,Nxh7,Kxh7,Rf3,Nd4,Rh3+,Kg8,Ng5,Bxg5,fxg5,f5,g6,f4', 'Rh8+,Kxh8,Qh3+,Kg8,Qh7#', 'https://lichess.org/training/anu4K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aNUvd', 'Classical', 'YonchRibak', 1678, 'leonidas77228', 1685, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,Bd7,d4,a6,Bxc6,Bxc6,d5,Bd7,O-O,Be7,Be3,Nf6,Nbd2,O-O,Qb3,b6,Rac1,Bg4,Ng5,h6,Ne6,fxe6,dxe6,Qc8,f4,Bxe6,c4,exf4,Bxf4,Qb7,e5,Nh5,exd6,cxd6,Bxd6,Bxd6,Rxf8+,Rxf8,Nf3,Bc5+,Kh1,Bg4,Ne5,Rf2,Rg1,Qxg2+,Rxg2', 'Rf1+,Rg1,Rxg1#', 'https://lichess.org/training/aNUvd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aNvr4', 'Rapid', 'carvalhog', 1906, 'krasnaya', 2170, 'e4,e6,Bc4,c5,Nf3,b6,O-O,Bb7,d3,Nc6,a4,d6,c3,Nge7,Re1,Ng6,Bg5,f6,Bc1,Qd7,d4,O-O-O,dxc5,dxc5,Qxd7+,Kxd7,Bb5,Bd6,Na3,Ke7,Nc4,Bb8,Bxc6,Bxc6,b4,cxb4,cxb4,Rd3,b5,Bb7,Ba3+,Kf7,Rad1,Rhd8,Rd2,Nf4,Rxd3,Rxd3,Bc1,e5,Bxf4,exf4,Nb2,Rb3,Nd1,Rb4,Nc3,g5,h3,Rc4,Nd5,Rxa4,Nd2,Be5,Nf3,Bd6,e5,Bb8', 'e6+,Ke8,Nxf6+', 'https://lichess.org/training/aNvr4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ANW66', 'Rapid', 'Andresmuela', 1648, 'manlio', 1641, 'e4,c5,f4,Nc6,Nf3,Qb6,Be2,Nd4,Nxd4,cxd4,O-O,Nf6,c3,Nxe4,Kh1,e6,cxd4,Qxd4,Nc3,a6,Nxe4,Qxe4,d3,Qd5,Bf3,Qd4,Re1,Bb4,Be3,Qxb2,Rb1,Qa3,Re2,O-O,Reb2,Bc3,Rb3,Qa5,Bxb7,Bxb7,Rxb7,d5,a4,Rac8', 'Bb6,Qb4,Rxb4', 'https://lichess.org/training/ANW66');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AnXHL', 'Blitz', 'omardj17', 1627, 'rafaelteixeira_2006', 1609, 'e4,e5,f4,exf4,d4,g5,g3,fxg3,hxg3,d5,e5,f5,Nf3,g4,Ng5,h6,Nf7,Kxf7,c4,c6,c5,Be6,Be2,Nd7,Rf1,h5,Nc3,h4,gxh4,Qxh4+,Kd2,b6,Kc2,bxc5,dxc5,Bxc5,Be3,f4,Bxc5,Bf5+,Bd3,Bxd3+,Qxd3,Nxc5,Qf5+,Ke8,e6,Qh2+,Kc1,Ne4', 'Qf7+,Kd8,Qd7#', 'https://lichess.org/training/AnXHL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('anYZH', 'Blitz', 'Zekeriyasimsek', 1831, 'intobolivian', 2199, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,e6,Bg5,dxc4,e4,b5,e5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Nbd7,exf6,Bb7,g3,c5,d5,Qb6,Bg2,O-O-O,O-O,b4,Na4,Qa6,a3,Bxd5,Bxd5,Ne5,Qe2,Rxd5,axb4,cxb4,Nc3,Ra5,Rxa5,Qxa5,Ne4,Qd5,Rd1,Nd3,b3,Qe5,h4,Nc5,Qxc4,Qxe4,Qb5,Kc7,Qe8,Kb6,Be3,Rxh4,Qd8+,Kb5,gxh4,Nxb3,Qb8+,Kc4,Qxf8,Qg4+,Kh2,Qxh4+,Kg2,Qg4+,Kh2,Qxd1,Qc8+,Kd3,Qd7+,Kc2,Qxf7,Nd4,Qxa7,Qh5+,Kg3,Ne2+,Kg2,Qg4+,Kf1', 'Qg1+,Kxe2,Qd1#', 'https://lichess.org/training/anYZH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ao0xX', 'Classical', 'Novandi', 1781, 'Fisher715', 1718, 'e4,Nf6,e5,Nd5,c4,Nf4,d4,Ng6,Be2,h5,Nf3,d6,O-O,Bg4,exd6,cxd6,Nc3,e5,dxe5,Bxf3,Bxf3,Nxe5,Qa4+,Nbc6,Bxc6+,Nxc6,Re1+,Be7,Bg5,O-O,Nd5,Bxg5,Qb3,Rb8,Qf3,g6,b4,Nd4,Qd3,Bf6,Rad1,Re8', 'Rxe8+,Qxe8,Nxf6+', 'https://lichess.org/training/ao0xX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ao0ZR', 'Rapid', 'RRoee', 1675, 'TURKMENATOR__03', 1706, 'd4,d5,Bf4,Nc6,Nf3,h6,e3,a6,Bd3,Bg4,Nbd2,Nf6,c3,e6,Qc2,Bd6,h3,Bxf3,Nxf3,Bxf4,exf4,Qd6,Ne5,Rf8,Qb3,O-O-O,g3,Kb8,Bxa6', 'Na5,Qb5,Qxa6,Qxa6,bxa6', 'https://lichess.org/training/ao0ZR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AO25C', 'Rapid', 'gyca', 1755, 'Alrock', 1756, 'Nf3,Nc6,d4,d5,c4,Nf6,Bg5,e6,e3,Bb4+,Nc3,Na5,Be2,Nxc4', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/AO25C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ao32w', 'Rapid', 'cuatralbo', 1970, 'drunk_idiot', 1746, 'd4,d5,c4,e5,dxe5,d4,Nf3,Bb4+,Bd2,Bxd2+,Nbxd2,c5,g3,Nc6,Bg2,Nge7,Ne4,Bf5,Nxc5', 'Qa5+,Qd2,Qxc5', 'https://lichess.org/training/Ao32w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ao3eu', 'Rapid', 'Makc_T', 1752, 'Bojanov', 1729, 'e4,g6,d4,Bg7,Nf3,a6,c4,d6,Nc3,Bg4,Be2,Nc6,h3,Bxf3,Bxf3,Nxd4,Be3,Nxf3+,Qxf3,c6,O-O,Nf6,c5,O-O,cxd6,exd6,Rad1,Qe7,Rfe1,b5,e5,dxe5,Qxc6,Rfc8,Qf3,e4,Qg3,Nh5,Qg4,f5,Qe2,Bxc3,bxc3,Rxc3,Qd2,Rd3,Qc1,Rad8,Rxd3,Rxd3,Qc8+,Kg7,Qxa6,Qd7,Rb1,f4,Rxb5,Kh6,g4,fxe3,g5+,Kg7,Rb7,e2', 'Rxd7+,Rxd7,Qxe2', 'https://lichess.org/training/ao3eu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ao3PR', 'Rapid', 'ShumskiyEvgeniy', 1998, 'VENTER', 2098, 'e4,e5,f4,d6,Nf3,Nc6,Bc4,Be7,Nc3,exf4,O-O,Nf6,d4,O-O,Bxf4,Bg4,Ne2,Nxe4,Bd3,Nf6,h3,Bh5,g4,Bg6,c3,h6,Qc2,Bxd3,Qxd3,Re8,g5,Nd5,gxh6,Nxf4,Nxf4,gxh6,Kh2,Kh8,Rg1,Rg8,Qf5,Qf8,Nd5,Bd8,Nf6,Rg7,Qh5,Bxf6', 'Qxh6+,Kg8,Qxf6', 'https://lichess.org/training/Ao3PR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ao49z', 'Blitz', 'hamou', 1883, 'charlie2019', 1953, 'e4,c5,Nf3,Nc6,c3,e5,Be2,Nf6,d3,h6,O-O,d6,Nbd2,Be7,a3,Be6,b4,b6,Bb2,O-O,Ne1,Qc8,f4,exf4,Rxf4,d5,exd5,Nxd5,Rf3,Bd6,h3,Nf4,Bf1,Bd5,Ne4,Be5,Nc2,f5,Ng3,Bxf3,Qxf3,Qc7,b5,Ne7,d4,cxd4,Nxd4,Nxh3+,gxh3,Bxg3,Ne6,Qd6,Nxf8,Rxf8,c4,Bh4,Qg2,Bf6,Bxf6,Rxf6,Kh1,Rg6,Qh2,Qf6,Rd1,f4,Qd2,Qg5,Bg2,Kh7,Be4,Nf5,Qd5,Ng3+,Kh2,Nf1+,Rxf1', 'Qg3+,Kh1,Qxh3#', 'https://lichess.org/training/Ao49z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ao8j0', 'Classical', 'Kenneth44', 1636, 'Matteo20100415', 1637, 'Nf3,Nc6,c4,Nf6,g3,e5,Bg2,e4,Ng5,Nh5,Nxe4,g6,d3,Bg7,Ng5,O-O,O-O,d6,Nc3,Re8,Nd5,Bg4,Re1,Nd4,f3,Be6,Nxe6,Rxe6,Be3,Qe8,Bxd4,Bxd4+,Kf1,c6,Nc7,Qb8,Nxe6,fxe6,Qb3,d5,cxd5,Qxg3,e3,Qxh2,exd4,Ng3+,Kf2,Qh4,dxe6,Ne4+,Ke2', 'Qf2+,Kd1,Qd2#', 'https://lichess.org/training/Ao8j0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ao8Mv', 'Blitz', 'NM ferdipy', 2261, 'vitaminasvi', 2294, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,a3,a5,Bd3,Qb6,b3,cxd4,cxd4,Nxd4,O-O,Nxb3,Be3,Bc5,Bxc5,Nxc5,Bc2,Ne7,Nc3,g6,Rb1,Qc7,Nd4,O-O,f4,Ne4,Nxe4,dxe4,Bxe4,Bc6,Nxc6,Nxc6,Kh1,Rfd8,Qf3,Nd4,Qh3,Rab8,Rbc1,Qe7,Qh6,Qxa3,Rc7,Qf8,Qg5,Rdc8,Rd7,Rd8,Rc7,Nf5,g4,Ng7,h4,Rd4,Bg2,Qd8,Re7,Rd7,Rxd7,Qxd7,f5,exf5,gxf5,Nxf5,h5,Ng7,h6,Ne6,Qf6,Qd8', 'Qxf7+,Kh8,Qxe6', 'https://lichess.org/training/Ao8Mv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AOCDm', 'Rapid', 'Cogitoer', 2026, 'swagmeister9000', 1929, 'c4,e5,Nc3,Bc5,g3,Nf6,Bg2,c6,e4,d6,Nge2,O-O,O-O,Be6,d3,Qd7,Bg5,Ng4,Na4,h6,Nxc5,dxc5,Be3,Nf6,Qc2,Na6,a3,Rac8,Rad1,b5,b3,Rfd8,Bc1,Nc7,Be3,Bg4,Bxc5,Ne6,Be3,c5,f3,Bh5,g4,Bg6,Ng3,Nd4,Bxd4,cxd4,Nf5,h5,h3,hxg4,fxg4,Bh7,Qf2,a5,Nh6+,Kf8,g5,gxh6,Qxf6,a4,bxa4,bxc4,Qxh6+,Kg8,dxc4,Rxc4,Qf6,Qd6,Qxf7+,Kh8,Qxc4,Qxa3,Qf7,Qe3+,Kh1,Bxe4,Qf6+,Kh7,Qxd8', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/AOCDm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AocEZ', 'Blitz', 'Laiana', 1759, 'vivekg342', 1837, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,c3,Bc5,d4,Nxe4,dxc5', 'Qxd1+,Kxd1,Nxf2+,Ke1,Nxh1', 'https://lichess.org/training/AocEZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AoChH', 'Blitz', 'Waurp', 2129, 'Dr-King', 2014, 'e4,c5,d3,e6,Bd2,d5,f3,g6,c3,Bg7,Nh3,Nc6,Be2,Qb6,Qb3,Nge7,O-O,O-O,Be3,d4,Bf2,e5,Nd2,Bxh3,gxh3,Qc7,a4,Qd7,Kg2,Na5,Qa3,b6,c4,f5,b4,Nb7,bxc5,Nxc5,a5,Ne6,Bg3,fxe4,Nxe4,Nf5,axb6,Ne3+,Kg1,Nf4,Bxf4,Rxf4,Nf2,Nxf1,Kxf1,Rff8,f4,Bh6,Bf3,Rxf4,Bxa8,Qf5,Bd5+,Kg7,Ra2,Qxh3+,Ke1,Qxh2,bxa7', 'Qg1+,Kd2,Rxf2#', 'https://lichess.org/training/AoChH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aoE04', 'Rapid', 'AbsolutePoint', 1929, 'Drozd56', 2083, 'd4,Nf6,c4,b6,Nc3,Bb7,Nf3,d6,g3,e6,Bg2,Nbd7,O-O,d5,cxd5,Nxd5,Bg5,Be7,Nxd5,Bxd5,Bxe7,Qxe7,Ne5,c6,Nxc6,Bxc6,Bxc6,Rc8,Rc1,O-O,d5,exd5,Qxd5,Nf6,Qd3,Rfd8,Qf3,Rd2,Ba4,Rxc1,Rxc1,g6,Rc8+,Kg7,Bb3,Rxe2,Rb8,Re1+,Kg2,Qe4,Rb7', 'Rg1+,Kxg1,Qxf3', 'https://lichess.org/training/aoE04');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AOFsj', 'Rapid', 'JoeBoat91', 1811, 'lebram', 1797, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,Bb4+,c3,Bd6,d5,Nce7,O-O,Nf6,Qd3,Ng6,Be3,Be7,Nbd2,O-O,h3,Nh7,g4,Nh4,Nxe5,Bf6,Nef3,d6,Nxh4,Bxh4,Nf3,Bf6,Rae1,a6,Bd4,Ng5,Nxg5,Bxg5,f4,Bh4,Re2,Kh8,e5,Be7,f5,b5,exd6,cxd6,Bb3,Bf6,Bxf6,Qxf6,Qe3,a5,Qe7,Qxe7,Rxe7,b4,cxb4,axb4,h4,Rb8,g5,h5,f6,Bg4,fxg7+,Kxg7,Rf6,Rb5,g6', 'Kxf6,Rxf7+,Rxf7', 'https://lichess.org/training/AOFsj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AoGyy', 'Rapid', 'irvi_7667', 1857, 'I-OI', 1752, 'b4,e5,Bb2,f6,b5,a6,bxa6,Rxa6,e4,Bc5,Bxa6,Nxa6,Nf3,d5,exd5,Qxd5,O-O,e4,Ne1,Qg5,d3,e3,fxe3,Bh3,Qf3,Bxe3+,Kh1,Bd7,Qe4+,Ne7,Nf3,Qc5,d4,Bxd4,Bxd4,Qc4,Qxb7,Qxf1+,Ng1', 'Bc6,Qxc6+,Nxc6', 'https://lichess.org/training/AoGyy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AohAi', 'Blitz', 'NM FalzeHope', 2370, 'TahlyOtros', 2390, 'd4,d5,e3,c5,c3,Nf6,Bd3,Nc6,f4,Bg4,Ne2,Ne4,O-O,f5,Nd2,e6,Nf3,Bd6,Ne5,Bxe5,dxe5,O-O,Qe1,c4,Bc2,Bxe2,Qxe2,b5,g4,g6,Kh1,Qh4,Bxe4,dxe4,gxf5,exf5,b3,Na5,Ba3,Rfd8,Bd6,Rd7,Rad1,Rad8,a4,a6,b4,Nb7,axb5,axb5,Bc5,Nxc5,bxc5,Rd3,Rxd3,cxd3,Qa2+,Kh8,c6,Qe7,Qa5,Rc8,Qxb5,Qc7,e6,Qxc6,Qe5+,Kg8,Qf6,Qe8,Rb1,d2,Rd1,Rc6,Rxd2,Rxe6,Qd4,Qe7,c4,Rc6,c5,Qxc5', 'Qd8+,Qf8,Qd5+', 'https://lichess.org/training/AohAi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AOi5I', 'Blitz', 'danielmorthem', 1777, 'classicaltrainer', 1780, 'd4,Nf6,Nf3,e6,Bg5,Be7,c4,d5,cxd5,exd5,Nc3,O-O,e3,Nbd7,Bd3,c5,dxc5,Nxc5,Bxf6,Bxf6,Nxd5,Nxd3+,Qxd3,Bxb2,Rb1,Qa5+,Nd2,Be5,O-O,Be6,Ne7+,Kh8,Rxb7,Rfd8,Nb3,Qxa2,Qe4,Bf6,Nd4,Qc4,Nec6,Bd5,Qb1,Bxd4,Nxd4,Bxb7,Qxb7,Rdb8,Qf3,a5,Qg3,a4,Nf5,g6', 'Qe5+,f6,Qxf6+,Kg8,Nh6#', 'https://lichess.org/training/AOi5I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aoKaf', 'Rapid', 'Qomar_Cj', 1747, 'La0de_Syahril', 1846, 'f4,Nc6,Nf3,d6,d4,Bg4,Nbd2,Nf6,e4,Nxd4,c3,Nxf3+,Nxf3,Nxe4', 'Qa4+,Qd7,Qxe4', 'https://lichess.org/training/aoKaf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aokRA', 'Classical', 'Rhys_010', 1715, 'sveet1', 1694, 'd4,Nf6,Nf3,e6,h3,c5,c3,Nc6,Bf4,h6,e3,a6,Bd3,b5,a3,Bb7,Nbd2,c4,Bc2,Be7,O-O,d5,Re1,Qd7,e4,Nd8,exd5,Nxd5,Bh2,g5,Ne5,Qc8,Qh5,Nf6,Qe2,Bd6,f3,Nc6,Ne4,Nxe4,Bxe4,f6,Bg6+,Ke7,Nf7,Bxh2+,Kxh2,Rg8,d5,Rxg6,dxc6,Bxc6,Nh8,Rg8,Qd2,Rxh8,Rxe6+,Qxe6,Re1,Qxe1,Qxe1+,Kf7,Qd1,Rad8,Qc2,Rd3,b3,Rhd8,bxc4,Bxf3,cxb5,axb5,Qb3+,Bd5,Qxb5,Be6,Qb7+,Kg6,Qe4+,Bf5,Qe7,Rc8,a4,Rdxc3,a5,Rc2,a6,Bxh3,Kxh3,R8c3+,g3,Ra2,Qe4+,Kf7', 'Qd5+,Kg7,Qxa2', 'https://lichess.org/training/aokRA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aoKUv', 'Rapid', 'Endrow', 1896, 'iguiii', 1868, 'd4,d5,Nf3,Nf6,e3,e6,Bd3,c5,c3,Nc6,O-O,a6,Nbd2,b5,dxc5,Bxc5,Qc2,Bb7,a3,Qc7,b3,Ne5,Be2,Bd6,Bb2,Nxf3+,Nxf3,Rc8,Rac1,O-O,Rfd1,Nd7,Nd2,Bxh2+,Kf1,Be5,c4,dxc4,bxc4,Bxb2,Qxb2,bxc4,Rxc4,Qb8,Rb1,Bd5,Rxc8,Qxb2', 'Rxf8+,Kxf8,Rxb2', 'https://lichess.org/training/aoKUv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aokxi', 'Rapid', 'Obese_reece', 1820, 'freeplaysoup', 1771, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bb5,e5,Nf3,d6,Qb3,a6,Bc4,Qd7,Bg5,h6,Bh4,Na5,Qb4,Nxc4,Qxc4,Be7,O-O-O,b5,Qb3,Qc7,Bxe7,Nxe7,Kb1,Be6,Nd5,Bxd5,exd5,O-O,h4,Qd7,g4,Qxg4,Rdg1,Qf5+,Ka1,Ng6,h5,Nf4,Nh4,Qxh5,Ng6,Qxh1', 'Ne7+,Kh8,Rxh1', 'https://lichess.org/training/aokxi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AOLas', 'Rapid', 'Meyer123', 1731, 'MatiasPalomino', 1665, 'e4,c5,Nc3,d6,Nf3,Nf6,Bc4,g6,O-O,Bg7,d3,Nc6,Bg5,O-O,Qd2,Bg4,Qe3,Nb4,Rac1,Re8,h3,Bd7,Rfd1,Qa5,Nd5,Nfxd5,exd5,Nxa2,Ra1,Bb5,Rxa2,Qb6,Bxb5,Qxb5,Bxe7,Qd7,Qg5,Rxe7,b4,b6,bxc5,bxc5,Rb1,Re2,Rab2,Bxb2,Rxb2,a5,Qh6,f6,Rb6,Rxc2,d4,cxd4,Nxd4,Rd2,Ne6,Rxd5,Nf4,Rd1+,Kh2,Qc7,Ne6,Qd7,Nf4,a4,Rb2,a3,Re2,Rb1,Re6,Rb5,Rxf6,Re8,Ne6,Qe7,Rf3,a2,Ra3,Qxe6,Ra7,Qe5+,g3,a1=Q', 'Qxh7+,Kf8,Rf7#', 'https://lichess.org/training/AOLas');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aole8', 'Classical', 'rank5', 1759, 'SomokeWeed', 1803, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bf4,c5,dxc5,Bxc5,e3,O-O,Be2,Nc6,Nf3,Be6,O-O,h6,a3,Nh5,Na4,Bb6,Ne5,Nxf4,exf4,Bc7,Nxc6,bxc6,Qd4,Bd6,b4,Qh4,g3,Qe7,Bf3,Rfd8,Rfe1,Qb7,Nc5,Bxc5,bxc5,Qa6,Be2,Qa5,a4,Rab8,Reb1,Bf5', 'Rxb8,Rxb8,Qe5,Rd8,Qxf5', 'https://lichess.org/training/aole8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aOlTR', 'Rapid', 'boostyu', 1968, 'JoaoRecife', 1875, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Be2,O-O,O-O,d5,exd5,Nxd4,Bxd4,Nxd5,Bxg7,Nxc3,Qxd8', 'Nxe2+,Kh1,Rxd8', 'https://lichess.org/training/aOlTR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AOM1o', 'Rapid', 'Dajrokan', 2143, 'HausKing', 2087, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,Bb4,O-O,O-O,Re1,Bxc3,dxc3,Re8,Bg5,d6,h3,a6,Bf1,Be6,b3,g6,a4,Kg7,Qd2,Qd7,Bxf6+,Kxf6,Qh6,Rh8,b4,Ke7,b5,Nb8,Rad1,Qe8,Ng5,Qf8,Qh4,f6,Nxe6,Kxe6,Bc4+,Ke7,Qg4,Kd8,Bd5,Ra7,c4,Qe7,c5,Ke8,cxd6,cxd6,Qc8+,Qd8,Bf7+,Ke7,Qe6+,Kf8,Rxd6,Qe7,Rd8+', 'Qxd8,b6,Ra8', 'https://lichess.org/training/AOM1o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AOMVf', 'Rapid', 'Eristys75', 1815, 'Konan120775', 2029, 'e4,e5,Nf3,Nf6,d4,d6,dxe5,Nxe4,exd6,Nxd6,Be2,Be6,O-O,Nc6,c3,h6,Nd4,Nxd4,Qxd4,a6,Bf4,Qe7,Bf3,O-O-O,Qb4,Nb5,Qe4,Nd6,Qb4,Nb5,Qe4,Bd5,Qxe7,Bxe7,Bxd5,Rxd5,c4,Rf5,cxb5,Rxf4,bxa6,bxa6,Nc3,Bc5,Rac1,Bb6', 'Nd5,Rf6,Nxf6', 'https://lichess.org/training/AOMVf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AoNkV', 'Rapid', 'Finitegroup', 2032, 'G_Sandro', 2000, 'e4,e5,Nf3,d6,d4,f5,Bg5,Be7,Bxe7,Qxe7,dxe5,fxe4,Nfd2,Qxe5,Nc3,d5,Be2,Nf6,O-O,O-O,Re1,d4,Ncxe4,Nxe4,Nxe4,c5,Bc4+,Kh8,Qe2,Nc6,Ng3,Qg5,Ne4,Qe5,f3,Bf5,Ng3,Qxe2,Rxe2,Rae8', 'Rxe8,Rxe8,Nxf5', 'https://lichess.org/training/AoNkV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aOPWQ', 'Rapid', 'steve1277', 1634, 'Zetro33', 1639, 'd4,d5,c4,Nf6,Nc3,e6,a3,Be7,h3,O-O,Bf4,Qe8,Nf3,Nbd7,e3,Qd8,cxd5,exd5,Bd3,h6,O-O,Nb6,Bc2,Be6,Qd3,Qd7,Be5,g6,Nh4,Ne4,Nxg6,fxg6,Nxe4,dxe4,Qxe4,Bf5,Bb3+,Kh7,Qf4,Bc2,Qg3,Bxb3,Rac1,Bd6,Bxd6,Qxd6', 'Rxc7+,Qxc7,Qxc7+', 'https://lichess.org/training/aOPWQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aOqBk', 'Rapid', 'javier71', 1869, 'chuckymm', 2029, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Bb5+,c6,Bd3,O-O,Bg5,Qb6,Nb3,Be6,Be3,Qc7,Qe2,Nbd7,O-O-O,a5,Nd4,a4,a3,b5,f4,Bg4,Nf3,b4,Nb1,c5,h3,Bxf3,gxf3,c4,Bxc4,Rfc8,Bd3,Nh5,Rhg1,bxa3,Nxa3,Bf6,Bc4,Nb6,Bd5,Nxd5,Rxd5,Bxb2+,Kxb2,Qc3+,Ka2,Rab8,Bd4', 'Rb2+,Ka1,Qxa3#', 'https://lichess.org/training/aOqBk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aoQwI', 'Classical', 'WichoR', 1634, 'sabtiger73', 1631, 'e4,c5,Nc3,Nc6,Nf3,e5,Bb5,d6,Bxc6+,bxc6,O-O,g6,d3,Bg7,Bg5,Ne7,a3,O-O,b4,f6,bxc5', 'fxg5,cxd6,Qxd6', 'https://lichess.org/training/aoQwI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AOs5B', 'Rapid', 'lukinhaz313', 1865, 'KizanM', 1859, 'd4,e6,c4,c5,e3,Nf6,Nf3,Nc6,dxc5,Bxc5,Nc3,O-O,Bd2,d6,Bd3,e5,Nd5,Bg4,Qc2,h6,O-O-O,Re8,h3,e4,Nxf6+,Qxf6,Bxe4,Be6,Bd5,Bxd5,cxd5,Ne5,Nxe5,Qxe5,Bc3,Qg5,g4,Rac8,f4,Qh4,Qf5,Bxe3+,Kb1,Qf2,g5,hxg5,Qxg5,f6,Bxf6,Rc7,Bc3,Bxf4,Qg6,Rf8,Qe6+,Rff7,Rhg1,Be5,Bxe5,Qc2+,Ka1,dxe5,Rxg7+,Kxg7,Rg1+,Kh7,a3,Qf5,Qe8,Rc8,Qa4,Qf2,Qe4+,Qf5', 'Qh4+,Qh5,Qxh5#', 'https://lichess.org/training/AOs5B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aOT0I', 'Rapid', 'tempegosong', 2043, 'Babola73', 1951, 'e4,e5,Nc3,Nf6,Nf3,Bc5,Nxe5,d6,Nf3,O-O,d4,Bb4,Bd3,Re8,Bg5,Nxe4,Bxd8', 'Nxc3+,Kf1,Nxd1,Rxd1,Rxd8', 'https://lichess.org/training/aOT0I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AOup6', 'Rapid', 'allenalbaph', 2159, 'dimasik-dim', 2049, 'e4,d6,d4,Nf6,Nc3,g6,Nf3,Bg7,Be3,O-O,h3,Re8,Bc4,Nbd7,Qd2,e5,Ng5,Rf8,Nxf7,Rxf7,Bxf7+,Kxf7,O-O,Kg8,f4,Nh5,fxe5,dxe5,Rf3,Qe7,Nd5,Qd6,Bg5,exd4,Raf1,Ne5', 'Ne7+,Qxe7,Bxe7', 'https://lichess.org/training/AOup6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AOV6R', 'Blitz', 'AdditionalField', 2092, 'Kikechen', 2064, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,Ne2,Qb6,O-O,c5,c3,Nc6,a3,Nge7,b4,cxd4,cxd4,Nf5,Be3,Nxe3,fxe3,Be7,Nd2,O-O,Ng3,Bg5,Rf3,Rac8,Raf1,a5,b5,Ne7,Nb3,Rc4,Nc5,Ng6,Nd7,Qxb5,Nxf8,Nxf8,Rxf7,Ng6,Nh5,Bh6,e4,Qb6,Kh1,Rxd4,Qf3,Qd8,Rxg7+,Bxg7', 'Qf7+,Kh8,Qxg7#', 'https://lichess.org/training/AOV6R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AoVsc', 'Rapid', 'SlavkoPutar', 2100, 'PawanJaiswal', 2103, 'e4,c5,Nf3,d6,c3,e6,d4,d5,exd5,exd5,Bd3,Nf6,O-O,Be7,Re1,O-O,Bf4,Nc6,dxc5,Bxc5,Nbd2,d4,Nb3,Bb6,Nbxd4,Nxd4,Nxd4,Bg4,f3,Bxd4+,cxd4,Qxd4+,Be3,Bxf3,gxf3,Qxb2,Bd4,Qa3,Bxf6,gxf6,Qc2,Rac8,Bxh7+,Kh8,Qf5,Rc5,Qxf6+,Kxh7,Re4,Rc1+,Rxc1,Qxc1+,Kf2,Qc2+,Ke3,Qc1+,Kf2,Qd2+,Kg3,Rg8+,Kh3', 'Qg2+,Kh4,Qxh2#', 'https://lichess.org/training/AoVsc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aOvzq', 'Rapid', 'renatherion', 1828, 'Usuariox_123', 1862, 'c4,e5,Nc3,Nf6,a3,d5,cxd5,Nxd5,e4,Nf4,h3,Nd3+,Bxd3,Qxd3,Nf3,Nc6,b4,Nd4,Nxe5', 'Nc2+,Qxc2,Qxc2', 'https://lichess.org/training/aOvzq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aoxar', 'Blitz', 'Ahmtysr', 1625, 'shah-aria7', 1604, 'e4,c5,Nf3,Nc6,c3,g6,d4,cxd4,cxd4,Bg7,Be3,Qa5+,Nc3,Nf6,Bb5,Nxe4,Bxc6,bxc6,Qc2,Ba6,Qxe4,d5,Qc2,O-O,Bd2,Qb6,Ne2,Rab8,b3,Bxe2,Kxe2,c5,Rac1,Rfc8,Be3,cxd4,Qxc8+,Rxc8,Rxc8+,Bf8,Bxd4,Qa6+,Ke3,Qxc8,Rd1,Bh6+,Ke2,Qc2+,Ke1,Qxa2,b4,Bg7,Be3,Bc3+,Nd2,Qa4,Bh6,Qxb4,Rc1,f5,Kd1,Qa4+,Ke1,Qe4+,Kd1,Qg4+,Ke1,Qxg2,Rxc3,Qh1+,Nf1,Qe4+,Re3,Qb1+,Ke2,Qb5+,Ke1,Kf7,Bg5,e6,f4,Qb4+,Ke2,a5,Nd2,a4,h4,a3,Rb3,Qa4,Rb7+,Ke8,Rb8+,Kd7,Rd8+,Kc7,Rh8,a2,Rxh7+,Kc6,Bf6,Qxf4,Rh8,Qg4+,Nf3,Qg2+,Ke3,Qf1,Nd4+,Kd7,Rd8+,Kc7,Nxe6+,Kc6,Nd4+,Kb7,Rd7+,Kb6,Bd8+,Ka6,Rd6+,Kb7,Rb6+,Ka7', 'Nc6+,Ka8,Rb8#', 'https://lichess.org/training/aoxar');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aOYda', 'Rapid', 'Towers22', 2051, 'chetanator', 2039, 'e4,e6,c4,c6,d4,d6,Nc3,Nf6,Bg5,Be7,Nf3,O-O,Bd3,b6,O-O,Bb7,Qc2,Nbd7,Bxf6,Nxf6,e5,dxe5,dxe5,Nd7,Bxh7+,Kh8,Rad1,Qc7,Rfe1,Nc5,Rd4,Rad8,Rg4,Rd7,Ng5,Qd8,Rh4,Bxg5', 'Bg8+,Kxg8,Qh7#', 'https://lichess.org/training/aOYda');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aOYG3', 'Rapid', 'Fenixito', 2207, 'Dehon', 1918, 'e4,c5,d4,cxd4,c3,d6,Nf3,Nf6,Bc4,g6,Qb3,e6,Bg5,Bg7,O-O,Qc7,Bxf6,Bxf6,cxd4,O-O,Nc3,Nc6,Nb5,Qd8,Qe3,a6,Nc3,b5,Be2,b4,Na4,Qa5,b3,Bd7,Rfd1,d5,e5,Bg7,Nc5,Rfd8,h3,Ne7,g4,Qb6,Qf4,Bb5,Ng5,Rf8,Bf3,h6,h4,hxg5,hxg5,Rac8,Rac1,Nc6', 'Nd7,Qxd4,Rxd4', 'https://lichess.org/training/aOYG3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aOYk8', 'Classical', 'v_clava38', 1793, 'boldaji175', 1895, 'e4,c5,Nc3,g6,d4,b6,d5,Bg7,Nf3,d6,Bb5+,Bd7,O-O,a6,Be2,e6,Rb1,Ne7,Re1,O-O,Bf1,exd5,Nxd5,Nxd5,exd5,Bg4,h3,Bxf3,Qxf3,Nd7,Bf4,Ne5,Qg3,Re8,c3,b5,a3,f6,b3,Rb8,Bd2,Qa5,Ra1,c4,f4,Nd7,bxc4,bxc4,Bxc4', 'Qc5+,Kh1,Qxc4', 'https://lichess.org/training/aOYk8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ap1P7', 'Rapid', 'Denzing', 1689, 'ozdemironur', 1631, 'e4,d5,exd5,Nf6,c4,c6,dxc6,Nxc6,Nf3,e5,d3,Bc5,Be2,O-O,O-O,Bg4,Nc3,Qd7,Be3,Bxe3,fxe3,Rad8,b4,Bxf3,Rxf3,Nxb4,e4', 'Qd4+,Kh1,Qxc3', 'https://lichess.org/training/Ap1P7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ap3HO', 'Rapid', 'cargan', 1897, 'russiankasparov', 1842, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nb3,Bb6,Nc3,Nge7,Bf4,O-O,Qf3,Ng6,Be3,Nce5,Qe2,d6,O-O-O,c5,Nd5,Be6,h4,h6,f3,c4,Bxb6,axb6,Nd2,Rxa2,Nxc4,Nxc4,Qxc4,Ra1+,Kd2,Rxd1+,Kxd1,Ne5,Qb5,Qa8,Nxb6,Qa1+,Kd2,Rc8,Nxc8,Bxc8,Qe8+,Kh7,Qxc8,Qxb2,Qc3,Qb6,Ke2,Ng6,g3,Ne5,Bh3,Qd8,Rd1,Qf6,Kf2', 'Ng4+,Bxg4,Qxc3', 'https://lichess.org/training/Ap3HO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ap3o6', 'Bullet', 'Andranik_2020', 1592, 'Schubier', 1590, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e5,Nb3,Be7,g3,h6,Bh4,Nbd7,g4,b5,f3,Bb7,Bf2,Qc7,h4,O-O-O,Bd3,Kb8,O-O,b4,Na4,d5,a3,dxe4,fxe4,Nxe4,axb4,Nxf2,Rxf2,Bxh4,Rxf7,Rhf8,Rxf8,Rxf8,Nac5,Nxc5,Nxc5,e4,Bxa6,Qg3+,Kh1,e3+,Bxb7', 'Qh3+,Kg1,Bf2#', 'https://lichess.org/training/Ap3o6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ap4ey', 'Blitz', 'Tristan16', 2454, 'GM akitalover', 2703, 'Nf3,d5,c4,c6,e3,Nf6,Nc3,a6,Qc2,g6,d4,Bg7,Bd3,O-O,O-O,Bg4,Ne5,Be6,Bd2,Nbd7,Nxd7,Qxd7,c5,Bf5,Bxf5,Qxf5,Qxf5,gxf5,Na4,Ne4,Ba5,e5,f3,Ng5,dxe5,Ne6,f4,f6,exf6,Bxf6,Bc3,Bxc3,bxc3,Rae8,Rab1,Re7,Kf2,h5,Kf3,Rfe8,Rfe1,Kf7,Rb4,Kf6,g3,Nd8,Nb2,Ne6,Nd3,h4,gxh4,Rh8,Reb1,Nd8,Ne5,Rxh4,Kg3,Reh7,Nf3,Rh3+,Kg2,R3h6,h4,Rg7+,Kf2,Rhh7,Rg1,Ne6,Rxg7,Rxg7,Ng5,Nxc5,Rb1,Ne4+,Nxe4+,fxe4,Rh1,b5,a4,Kf5,axb5,axb5,Ra1,Rh7,Kg3,Rg7+,Kf2,Rc7,Ra8,Kg4,Rh8,Ra7,Rh6,Ra2+,Ke1,c5,Rd6,Kf3,Rxd5,Kxe3,f5,b4,cxb4,cxb4,f6,b3,f7,Ra1+,Rd1,b2,f8=Q', 'Rxd1+,Kxd1,b1=Q#', 'https://lichess.org/training/ap4ey');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ap4wd', 'Rapid', 'rusadov75', 1796, 'achilleasmpant', 1956, 'e4,c5,Nf3,e6,d4,cxd4,Qxd4,Nc6,Qe3,Nf6,Bd3,Nb4,O-O,Nxd3,cxd3,b6,Nc3,Bb7,e5,Ng4,Qf4,Bxf3,Qxf3,Nxe5,Qe4,Nc6,Qe3,Bd6,d4,Qh4,f4,Qf6,Ne2,O-O,a3,Rac8,Bd2,Na5,Bxa5,bxa5,Rac1,Rb8,Rc2,Rb7,Kh1,Rfb8,Rfc1,h6,Rc8+,Rxc8,Rxc8+,Kh7', 'Qe4+,Qg6,Qxb7', 'https://lichess.org/training/ap4wd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AP5Nu', 'Rapid', 'Langlais', 1855, 'ruslan2016', 1744, 'e4,e5,Nf3,Bd6,Bc4,h6,d4,exd4,Qxd4,Qf6,e5,c5,Qxd6,Qxd6,exd6,Nf6,O-O,O-O,Na3,Ne4,Bf4,g5,Be5,Nc6,Rfe1,Nxe5,Nxe5,Nxd6,Ng6,Rd8,Re7,b5,Nxb5,Nxc4,Ne5,Nxe5,Rxe5,Rb8,c4,d6,Re7,a6,Nc3,Rxb2,Rae1,Rc2,Nd5,Be6,Nc7,Bxc4,Re8+,Rxe8,Nxe8,d5,Nd6,Bxa2,Re8+,Kg7,Nf5+,Kf6,g4,d4,Rh8,Rc1+,Kg2,Bd5+,Kh3,Rc3+,Ng3,Kg7,Rc8,d3,Nh5+,Kg6', 'Rg8+,Kh7,Nf6#', 'https://lichess.org/training/AP5Nu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AP6rK', 'Rapid', 'koskor', 1642, 'Iplaygambit', 1950, 'e4,e5,a3,Nc6,Bb5,Bc5,d3,d6,h3,f5,Nf3,fxe4,dxe4,Nf6,Nc3,O-O,Bxc6,bxc6,Bg5,Ba6,b4,Bb6,a4,Bd4,Qd2,Rb8,Rb1,Qe8,Nxd4,exd4,Qxd4,Qg6,Bxf6,Qxg2,Bxg7,Qxh1+,Kd2,Qh2,Bxf8,Rxf8,b5', 'Rxf2+,Qxf2,Qxf2+', 'https://lichess.org/training/AP6rK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ap8L3', 'Rapid', 'baykamath', 1711, 'xaniageo', 1729, 'd4,Nf6,c4,d5,e3,Bf5,a3,e6,Nc3,Be7,h3,O-O,Nf3,c5,cxd5,cxd4,Nxd4,Be4,dxe6,Qa5,exf7+,Kxf7,Bc4+,Kg6,O-O,h6,Bd3,Qe5,f3,Bxd3,Qxd3+,Kf7,Qc4+,Kg6,f4,Qd6,Qd3+,Kf7,Ne4,Qd7,Nxf6,Bxf6,Qc4+,Kg6,g4,Na6,b4,Rac8,Qd3+,Kf7,Bb2,Kg8,Qg6,Rc6,Qh5,Rcc8,g5,hxg5,fxg5,Bxd4,Bxd4,Nc7,Rf2,Rxf2,Kxf2,Rf8+,Kg2,Qc6+,Kg3,Qd5,Qg4,Ne6,h4,Nxd4,exd4', 'Qb3+,Kg2,Qb2+', 'https://lichess.org/training/Ap8L3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ap9vc', 'Blitz', 'abedalajooly', 1604, 'Tahsin44', 1708, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Nxd7,d4,cxd4,Nxd4,Ngf6,Nc3,e6,O-O,Be7,f4,O-O,f5,exf5,Nxf5,Ne5,Nxe7+,Qxe7,Nd5,Nxd5,exd5,Rac8,Bf4,Rc4,Bxe5,Qxe5,Qf3,Rxc2,Rae1,Qxb2', 'Qxf7+,Rxf7,Re8+,Rf8,Rfxf8#', 'https://lichess.org/training/Ap9vc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Apaa0', 'Blitz', 'MateInNone', 1651, 'qw77', 2115, 'e4,Nf6,e5,Nd5,Nf3,d6,exd6,exd6,Be2,Bg4,O-O,c5,c3,Nc6,d3,Be7,Nbd2,O-O,Nc4,b5,Ne3,Nxe3,fxe3,Bf6,Ne1,Bxe2,Qxe2,d5,Nc2,Re8,Bd2,Qe7,Rae1,a6,a3,Rad8,Rf3,Ne5,Rf2,c4,dxc4,dxc4,Ref1,Nd3,Rxf6,gxf6,Nd4,Rd5,Nf5,Qe6', 'Qg4+,Kf8,Qg7#', 'https://lichess.org/training/Apaa0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aPbLg', 'Classical', 'Amirrezahtalab', 1866, 'Qjawiak', 1871, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Bf4,a6,Nd5,e5,Be3,Nf6', 'Bb6,Nxd5,Bxd8,Bb4+,Ke2', 'https://lichess.org/training/aPbLg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('APC1d', 'Rapid', 'Hart', 1651, 'joueetnuit', 1601, 'e4,e6,d4,g6,Nf3,h6,Bd3,Bg7,a3,Ne7,c4,a6,O-O,d5,exd5,exd5,c5,O-O,Nc3,Nbc6,Be3,Be6,Ne2,Bg4,Kh1,Bxf3,gxf3,b6,b4,b5,Rg1,a5,Bxb5,axb4,a4,Na5,Rb1,c6,Bd3,b3,Bd2,Rb8,Bxa5,Qxa5,Rxb3,Qxa4', 'Rxb8,Qxd1,Rxf8+,Kxf8,Rxd1', 'https://lichess.org/training/APC1d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aPC6L', 'Rapid', 'Igrok68', 2022, 'Maximov33', 1987, 'e4,c5,Nf3,Nc6,c3,e5,d4,exd4,cxd4,cxd4,Nxd4,Bb4+,Nc3,Qa5,Nxc6,Bxc3+,bxc3,Qxc3+,Bd2,Qxc6,Bd3,Ne7,O-O,O-O,Rc1,Qd6,Bc3,Nc6,Qg4,Qg6,Qf3,Qe6,Rfe1,Ne5,Qg3,f6,Bxe5,Qxe5,f4,Qd4+,Kh1,b6,Red1,Qa4,Qh3,Bb7,e5,f5,Bxf5,Rxf5,Qxf5,Qxa2,Rc2,Qb3,Rcd2,Bc6,h3,Rf8,Qd3,Qxd3,Rxd3,Rxf4,Rxd7,Bxd7,Rxd7,Re4,Rxa7,Rxe5,Rb7,b5,Kg1,h6,Kf2,Kh7,Kf3,Kg6,Kf4,Rf5+,Kg3,h5,h4,Rc5,Rb6+,Kh7,Rb7,Kh6,Kh3,g6,Kh2,Rc4,Rxb5,Rxh4+,Kg3,Rg4+,Kf3,Rg5,Rb8,Rf5+,Kg3,g5,Rb6+,Kg7,Kh3,Rf6,Rb7+,Kg6,Rb8,Rf7,Rb6+,Kf5,Rb1,Kf4', 'Rf1+,Ke3,Rxf7', 'https://lichess.org/training/aPC6L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('APcw0', 'Blitz', 'Jeroentje', 1704, 'benlieberwirth', 1701, 'e4,e5,Bc4,Nf6,d3,d5,exd5,Nxd5,Ne2,Bc5,O-O,O-O,Nbc3,Nxc3,Nxc3,Nc6,Re1,Be6,Bxe6,fxe6,Re3,Bxe3,Bxe3,Nd4,Qd2,Qd7,Re1,Rf5,Ne4,Raf8,Nc5,Qc6,Bxd4,exd4,Nxe6,Re8', 'Nxd4,Rxe1+,Qxe1,Qd5,Nxf5', 'https://lichess.org/training/APcw0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ApDkl', 'Blitz', 'BENGUNN', 2090, 'MonsieurNoob', 2109, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be7,Be2,O-O,O-O,Nc6,f4,exf4,Bxf4,Be6,Nd4,Qb6,Be3,Qxb2,Qd2,Qa3,Rab1,Nxd4,Bxd4,b5,Rf3,Qa5,Qg5,h6,Qh4,b4,Rxf6,Bxf6,Bxf6,gxf6,Nd5,Bxd5,Rb3,Be6,Rg3+,Kh7,Qxf6,Rg8,e5,Qxe5,Bd3+,Rg6,Bxg6+,fxg6', 'Qxg6+,Kh8,Qxh6#', 'https://lichess.org/training/ApDkl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ApEmC', 'Rapid', 'BIOM', 1749, 'Cane53', 1776, 'e4,c5,Nf3,Nc6,Nc3,Nf6,d4,cxd4,Nxd4,e6,Be3,Bb4,Nb5,a6,Nd6+,Bxd6,Qxd6,Qe7,O-O-O,Qxd6,Rxd6,O-O,f4,b5,e5,Ng4,Bc5,Rd8,h3,Nh6,Bb6,Re8,Bd3,Rb8,Bc5,g6,Ne4,Kg7,Nf6,Rd8,g4,Ne7,Bb6,Rxb6,Rxb6,d5,exd6,Kxf6,g5+,Kg7,gxh6+,Kxh6,dxe7,Re8,Rb8,Kg7,Be4,Kf6,Bc6,Bb7,Bd7', 'Rxb8,e8=Q,Rxe8,Bxe8,Bxh1', 'https://lichess.org/training/ApEmC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('APeUN', 'Rapid', 'sechtandil', 1781, 'BlackSilver1337', 1712, 'e4,c5,Nf3,d6,Be2,e5,O-O,a6,c3,h6,d4,exd4,cxd4,cxd4,Qxd4,Nc6,Qd3,Nf6,a3,Be6,Bf4,g5,Bg3,Be7,Nc3,Ng4,Nd5,Nge5,Qc3,f6,Nxe5,fxe5,Bh5+,Bf7,Qf3,O-O,Ne3,Bc4,Qg4,Bf7,Bxf7+,Rxf7,Qh5,Kh7,Nf5,Qf8,Nxh6,Qxh6,Qxf7+,Qg7,Qh5+,Kg8,h4,Nd4,hxg5,Bxg5,Qd1,Rf8,f3', 'Be3+,Bf2,Nxf3+,Qxf3,Rxf3', 'https://lichess.org/training/APeUN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('apF0h', 'Rapid', 'TheoBernt', 1819, 'YAMEN_DAFAR', 1805, 'e4,Nf6,Nc3,d6,d4,Nc6,Bc4,a6,Nf3,g6,O-O,Bg7,e5,dxe5,dxe5,Qxd1,Rxd1,Nd7,e6,fxe6,Bxe6,Nde5,Bxc8,Rxc8,Nxe5,Bxe5,Bh6,Rd8,Rxd8+,Kxd8,Rb1,Nd4,Rc1,Kc8,b3,Rd8,Re1,Nb5,Rxe5,Nxc3,h3,Nxa2,Rxe7,Nb4,c3,Nd5,Rxh7,Nxc3,Rg7,Rd6,Bf4', 'Ne2+,Kh2,Nxf4', 'https://lichess.org/training/apF0h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ApFpo', 'Classical', 'zavix', 1748, 'kontel', 1675, 'c4,Nf6,Nc3,g6,Nf3,Bg7,g3,O-O,Bg2,c6,O-O,d5,cxd5,Nxd5,Nxd5,cxd5,d3,Nc6,Rb1,e6,Bf4,b6,d4,Ba6,Re1,Rc8,a3,Re8,b4,Bb7,b5,Na5,e3,Nc4,a4,a6,Bf1,axb5,axb5,Qd7,Bxc4,dxc4,Be5,Bxe5,Nxe5,Qd5,e4,Qd8,Rc1,c3,Qf3,f5,Rxc3,Rxc3,Qxc3,Bxe4,Rc1,f4,Qc7,Qxc7,Rxc7,Ra8,Rc1,f3,Nd7,Ra5', 'Nf6+,Kf8,Nxe4', 'https://lichess.org/training/ApFpo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ApgKG', 'Classical', 'abeersekh', 1651, 'GinevraWeasley', 1641, 'e4,e5,Nf3,Nf6,Nc3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d5,Nxd5,Be6,Bg5,c6,Nxf6+,gxf6,Bxf6,Qa5+,b4,Bxb4+,c3,Bc5,Qe5,Rg8,g3,h6,Bh3,Rg5,Bxg5', 'Bxf2+,Kxf2,Qxe5', 'https://lichess.org/training/ApgKG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ApH6P', 'Classical', 'alicakiroglu6363', 1991, 'micaa', 1992, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,dxe4,Nxe4,Be7,Bxf6,Bxf6,Nxf6+,Qxf6,Nf3,b6,Bb5+,c6,Bd3,Bb7,O-O,O-O,Ne5,c5,c3,Rd8,Rc1,Kh8,Qh5,g6,Qg5,Qxg5,Nxf7+,Kg8,Nxg5,e5,Ne6,Rd7,Bc4,Kh8,dxe5,Nc6,f4,Rd2,Rcd1,Rxb2,Rf2,Rxf2,Kxf2,Na5,Bd5,Re8,Ng5,Bxd5,Rxd5,Kg7,Rd7+,Kg8,Rxh7,Rf8,g3,Nc6,Rc7,Nxe5,Ne6,Rf6,Rc8+,Kf7,Ng5+,Ke7,Rc7+,Kd6,Rxa7,Kc6,h3,Nc4,Rf7,Rd6,Ne4,Re6,Kf3,Rxe4,Rf6+,Nd6', 'Rxd6+,Kxd6,Kxe4', 'https://lichess.org/training/ApH6P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('APHTY', 'Blitz', 'mmwillettjeffries', 1669, 'OneMoveOneThought', 1639, 'e4,e5,Nf3,d5,d4,dxe4,Nxe5,Nf6,Bc4,Nd5,Nd2,Bf5,O-O,c6,g4,Bg6,Nxg6,hxg6,Nxe4,Nd7,Bxd5,cxd5,Nc3,Nf6,Bg5,Qd6,h4,Ne4,Nxe4,dxe4,Qd2,f6,Bf4,Qe6,Bg3,Qxg4,Kh1,Bd6,Qe3,O-O-O,Rg1,g5,Qc3+,Kd7,Bxd6,Rxh4+,Bh2,Rxh2+,Kxh2', 'Rh8+,Qh3,Rxh3#', 'https://lichess.org/training/APHTY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('apIJj', 'Rapid', 'bogz2', 1769, 'ChessGiant', 1609, 'e4,e5,Nc3,Nf6,d3,Bc5,h3,O-O,a3,d6,Bg5,Be6,Qf3,Nbd7,h4,c6,Be2,Qb6,Na4,Qa5+,Nc3,Ng4,b4', 'Bxb4,axb4,Qxa1+', 'https://lichess.org/training/apIJj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aPINx', 'Blitz', 'jimmyhn', 2086, 'mahamed1972', 2097, 'e4,Nc6,c4,e5,Nc3,a6,Nf3,h6,d4,exd4,Nxd4,Qf6,Be3,Nge7,Nd5,Nxd5,cxd5,Bb4+,Ke2,Ne5,f3,d6,Qa4+,Bd7,Qxb4,O-O,Rc1,c6,dxc6,bxc6,Qd2,c5,Nb3,Rab8,h3,a5,f4,Nc6,Rc2,a4,Nc1,Qg6,Kf3,Qh5+,Kf2,Rfe8,Be2,Qh4+,g3,Qe7,Bf3,Nb4,Rc3,Nc6,Rd1,Nd4,Bxd4,cxd4,Rd3,d5,e5,Qc5,b3,axb3,Nxb3,Qa7,Nxd4,Rec8,Kg2,Qa4,Bxd5,Rb4,Nb3,Bb5,Rd4,Rxd4,Qxd4,Rc2+,Rd2', 'Qxd4,Nxd4,Rxd2+', 'https://lichess.org/training/aPINx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('apIWT', 'Rapid', 'wldl2marat', 1942, 'MASADMASAD', 1920, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,Qa5+,Bd2,Qb6,Nc3,e6,a3,Ne7,Na4,Qc7,Bb4,Nd7,Ne2,a5,Bd2,Ng6,O-O,b5,Nac3,Be7,b3,O-O,Rfc1,Rab8,Na2,c5,dxc5,Nxc5,Qd4,Ne4,Nac3,Bc5,Qd3,Nxe5,Bf4,Bxf2+,Kf1,Ng3+,hxg3,Nxd3,Bxc7,Nxc1,Bxb8,Nxe2,Kxe2', 'Bd4,Nxb5,Bxa1', 'https://lichess.org/training/apIWT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aPkMO', 'Rapid', 'Larsbars', 1678, 'cazuza75', 1606, 'd4,d5,Bf4,Bf5,e3,e6,Nf3,Nc6,c3,a6,Bd3,Bg4,Nbd2,h6,Qc2,Bxf3,Nxf3,g5,Bg3,Nf6,O-O-O,Bd6,Kb1,Bxg3,hxg3,b5,a3,b4,axb4,O-O,Qe2,a5,bxa5,Nxa5,Kc2,Qb8,Ra1,Qb3+,Kc1,Nc4,Rxa8,Rxa8,Bxc4,dxc4,Nd2,Ra1+,Nb1,Qa2,Qc2,Kg7,Kd2,Ng4,Ke2,Qa8,f3,e5,Rc1,Nf6,Na3,Rxc1,Qxc1,exd4,Nxc4,dxe3,Nxe3,Qe8,Kf2,g4,fxg4,Ne4+,Kf3,Ng5+,Kf2,Ne4+,Kg1,Nxg3,Kh2', 'Qxe3,Qxe3,Nf1+,Kg1,Nxe3', 'https://lichess.org/training/aPkMO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('apL8N', 'Rapid', 'raulajau', 2010, 'SHEQ_11111', 1988, 'c4,e5,Nc3,Nf6,g3,Bb4,Bg2,O-O,e3,c6,Nge2,d5,cxd5,cxd5,O-O,e4,d3,Bg4,h3,Bxe2,Qxe2,exd3,Qxd3,Bxc3,Qxc3,Nc6,Rd1,Rc8,Qb3,Qd7,Bd2,d4,Bc3,d3,Bxf6,gxf6,Rxd3,Qf5,Rd5,Qg6,Qxb7,Ne5,b3,Rc2,Rd4,Rfc8,Qxa7,Rxf2,Kxf2,Rc2+,Kg1,Qxg3,Qa8+,Kg7,Rf1,Qxe3+,Kh1,Qxd4,a4,Nd3,Qf3,Nf2+,Kh2,Ne4,Re1,Qd6+,Kg1,Ng5,Qg4,Qb6+,Kh1,Qf2,Rf1,Qc5,h4,h5,Qxh5,Rxg2,Kxg2,Qd5+,Kg1', 'Nh3+,Kh2,Qxh5', 'https://lichess.org/training/apL8N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('APlkJ', 'Rapid', 'Carl-Haffner', 2144, 'Bajanista', 2192, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f4,O-O,Be2,c5,d5,Na6,g4,e6,g5,Ne8,Nf3,Nac7,h4,exd5,cxd5,Bg4,Nd2,Bxe2,Qxe2,Qd7,a4,Rb8,Ra3,Na6,h5,Nb4,Kd1,Nc7,Qh2,Bh8,Nc4,Rfd8,hxg6,fxg6,Nxd6,h5,gxh6,Qxd6,h7+,Kf8,Qh6+,Ke8,e5,Qa6,Nb5,Ncxd5,Nd6+,Rxd6,exd6,Qxd6,Re1+,Kd7,Bd2,Re8,Qh3+,Kd8,Rxe8+,Kxe8,f5,gxf5,Qxf5,Qf6,Qc8+,Kf7,Qxb7+,Ke6,Qc8+,Kd6,Bxb4,Nxb4,Qb8+,Kc6,Qa8+,Kb6,a5+,Kb5,Qe8+,Nc6,Qe2+,c4,b3,Qd6+,Ke1,Bc3+,Kf1,Qxa3', 'Qxc4+,Kxa5,Qxc3+', 'https://lichess.org/training/APlkJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ApM68', 'Rapid', 'Ramutcho', 1684, 'dimik', 1619, 'e4,e6,Nf3,d5,e5,c5,b3,Nh6,Be2,Nf5,d4,Nc6,c3,a6,O-O,b5,a4,Bb7,Ba3,b4,Bb2,cxd4,cxd4,Be7,Qd2,O-O,Bd1,f6,Bc2,a5,Bxf5,exf5,Qd3,fxe5,dxe5,Ba6,Qd2,Bxf1,Kxf1,Kh8,Qd3,f4,Nbd2,Nb8,Bd4,Na6,Rc1,Nc7,Bc5,Bxc5,Rxc5,Ra7,Rc6,g5,Ne1,g4,e6,Re8', 'Qd4+,Kg8,Qxa7', 'https://lichess.org/training/ApM68');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ApN5J', 'Rapid', 'Sandeeppoddar83', 1804, 'Dilawar_singh', 1738, 'e4,e5,Nf3,d6,d4,g6,Bc4,Bg7,Nc3,c6,d5,b5,Bb3,a6,a3,Nf6,Bg5,O-O,O-O,Qe8,dxc6,Nxc6,Qxd6,Nh5,Nd5,Bb7,Nc7,Qc8,Nxa8,Bxa8,Rad1,h6,Be7,Nxe7,Qxe7,Bxe4,Nxe5,Bxe5,Qxe5,Qg4,g3', 'Qf3,Qxe4,Qxe4', 'https://lichess.org/training/ApN5J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('apPCE', 'Blitz', 'SHORT21', 2523, 'IM Tahaned2015', 2676, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Be3,a6,Qd2,b5,dxc5,Bxc5,O-O-O,Qb6,Bxc5,Nxc5,Bd3,Bb7,Kb1,b4,Ne2,Na4,Ka1,Qa5,Ned4,Nxd4,Nxd4,Qb6,f5,Nxb2,Rb1,Nxd3,Qxd3,a5,fxe6,fxe6,c3,O-O,Qd2,Ba6,cxb4,axb4,Rxb4,Qc7,Re1,Qe7,Rb6,Bc4,Nb3,Rfb8,Rxb8+,Rxb8,Rb1,Qh4,Nd4,Rxb1+,Kxb1,Qe4+,Kb2,Qxe5,a4,h6,a5,Kh7,Kc3,Qb8,Qc2+,Kh8,Nxe6', 'Qe5+,Nd4,Qe3+,Kb4,Qxd4', 'https://lichess.org/training/apPCE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aPrIA', 'Rapid', 'smontur', 1736, 'iraspan', 1697, 'e4,g6,d4,Bg7,Nf3,c5,Bc4,d6,dxc5,Qa5+,c3,Qxc5,Qb3,Be6,Bxe6,fxe6,Qxb7,Qc6,Qb3,Nd7,O-O,d5,exd5,exd5,Bf4,Ngf6,Nbd2,O-O,Rfe1,e6,c4,Ne4,cxd5,Nxd2,dxc6,Nxb3,cxd7,Nxa1,Bc7,Bf6,Rxe6,Bd8,Bd6,Rf7,Ne5,Rf6,Re8+,Kg7,Rxd8,Rxd8,Be7,Rxd7', 'Bxf6+,Kxf6,Nxd7+', 'https://lichess.org/training/aPrIA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('apstU', 'Classical', 'adelbavi', 1766, 'Sharathkumar-99', 1763, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,Nc3,d6,h3,Nf6,O-O,Bd7,a3,a6,Nd5,Rb8,c3,Nxd5,Bxd5,Ne7,Ba2,Ba7,d4,exd4,cxd4,Be6,b3,c6,e5,dxe5,Nxe5,Bxd4,Bf4,Bxa1,Qxa1,Rc8,Re1,O-O,Rd1,Qb6,Be3,Qc7,Bf4,Qb6,Rd3,f6,Nc4,Bxc4,bxc4,Kh8,Bd6,Rfe8,Re3,Ng6,c5,Qa5,Be6,Nf8,Bxc8,Rxc8,Re7,b6,Bc7,Qxc5,Qe1,Ng6,Rd7,Ne5,Bd6,Qd5,Rc7,Rxc7,Bxc7,b5,f4,Qc5+,Kh2,Nd3', 'Qe8+,Kh7,Qe4+', 'https://lichess.org/training/apstU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('apsWS', 'Bullet', 'NSlavic', 1719, 'Mr_Weak', 1696, 'e4,c5,c4,d6,Nc3,Nf6,g3,g6,Bg2,Bg7,Nge2,O-O,O-O,Bd7,d4,cxd4,Nxd4,Nc6,h3,Nxd4,Qxd4,Bc6,Qd3,Nd7,f4,Qb6+,Kh2,Nc5,Qc2,Bxc3,bxc3,Qc7,Rb1,Rad8,Rd1,e6,Be3,b6,Bxc5,dxc5,Rxd8,Rxd8,Rd1,Rd6,e5,Rxd1,Qxd1,Bxg2,Kxg2,Qb7+,Qf3,Qxf3+,Kxf3,Kf8,g4,Ke7,Ke4,f6', 'exf6+,Kxf6,g5+,Kf7,Ke5', 'https://lichess.org/training/apsWS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('APufM', 'Classical', 'BenjoBoy', 1697, 'Benfica_7', 1714, 'e4,c5,Nf3,Nc6,Bc4,Nf6,e5,Ng4,O-O,Ngxe5,Nxe5,Nxe5,b3,Nxc4,bxc4,b6,d4,cxd4,Qxd4,Bb7,Nc3,d6,Ba3,e5,Rfe1,Qg5,Nd5,Bxd5,Qxd5,Qg6,Qxa8+,Ke7,Qxa7+,Ke6,Qxb6,Qxc2,Rxe5+,Kxe5,Re1+,Kf5,Bxd6,Bxd6,Qxd6,f6,Qd5+,Kg6,c5,Rc8,g4,Rxc5,Qe6,h5,Qe8+,Kh7,gxh5,Rg5+,Kh1', 'Qxf2,Qe2,Rg1+,Rxg1,Qxe2', 'https://lichess.org/training/APufM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ApuIC', 'Rapid', 'Avthomas2', 1791, 'derzkiy222', 1807, 'd4,Nf6,Bf4,d5,e3,Nc6,Nd2,e5,dxe5,Nxe5,Bxe5,Bb4,c3,Ba5,Ngf3,Bg4,h3,Bh5,Bd3,O-O,g4,Bg6,Bxg6,fxg6,Qc2,Qe7,O-O-O,Ne4,Nxe4,Rxf3,Nd2,Rxf2,Bg3,Re2,Rde1,Qxe3,Rxe2,Qxe2,Qb3,c6,Re1,Qg2,Qxb7,Rd8,Qxa7,Qxg3,Qxa5,Qxe1+,Kc2,Re8,Qc5,Re2,Qd4,h6,c4,Qf2,Qxf2,Rxf2,a4,dxc4,a5,Rf8,Nxc4,Ra8,Kb3,Kf7,Kb4,Kf6,Kc5,Kg5,Kxc6,Kh4,Kb6,Kxh3,Kb7,Rh8,a6,Kxg4,b4,h5,a7,h4,b5,h3,Ne3+,Kf4,Nf1,Kf3,b6,Kg2,Ne3+,Kf2,Ng4+,Kg3,Ne3,h2,Nf1+,Kg2,Nxh2,Kxh2,a8=Q,Rxa8,Kxa8,g5,b7,g4,b8=Q+,g3,Qh8+,Kg2,Qxg7,Kf2,Qf6+,Kg2,Kb7,Kh2,Qh4+,Kg2,Kc6,Kf3,Kd5,g2,Qh2,Kf2,Ke4,Kf1,Kf3,g1=Q', 'Qe2#', 'https://lichess.org/training/ApuIC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aPVCK', 'Classical', 'praslea', 1661, 'Muorota', 1653, 'Nf3,Nf6,d4,g6,c4,d5,Nc3,Bg7,e3,Ne4,Nxd5,c6,Nf4,g5,Nd3,Be6,Qc2,Nd6,Nc5,Bf5,e4,b6,exf5,bxc5,Be3,cxd4,Nxd4,c5,Qa4+,Qd7,Qxd7+,Nxd7,Nf3,g4,Nh4,Bxb2,Rb1,Rb8,Bd3,Bc3+,Ke2,Rxb1,Rxb1,O-O,Rb3,Bf6,g3,Ne5,Ng2,Nxd3,Rxd3,Rc8,Ra3,Nxc4,Rxa7,Nxe3,Nxe3,Rb8,Nxg4,Bd4,Rxe7,Rb2+,Kf3,Rxa2,Nh6+,Kg7,Ng4,h5,f6+,Kg6,Ne3,Kxf6,Re4,Ba1,Rc4,Bd4,Nc2,Ke5,Ke2,Kd5,Kd3,Bxf2,Rf4,c4+,Kc3,Bg1', 'Nb4+,Ke5,Nxa2', 'https://lichess.org/training/aPVCK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('APvkM', 'Rapid', 'terrment', 1678, 'khodorkhalifeh1', 1654, 'e4,e5,Nc3,Bc5,Bc4,Nf6,Nd5,Nxd5,exd5,d6,d3,O-O,Nf3,Bg4,Qe2,Nd7,Be3,a6,Bxc5,Nxc5,h3,Bh5,g4,Bg6,Qd2,e4,dxe4,Bxe4,Be2,Re8,O-O-O,Na4,Qb4,b5,b3,Nb6,Rhe1,a5,Qc3,Bxd5,Nd4,b4,Qd2,Qf6,Bb5,Rxe1,Rxe1,Be6,Nxe6', 'Qa1#', 'https://lichess.org/training/APvkM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aPvpG', 'Rapid', 'Sosyal', 1683, 'Iv1978', 1681, 'e4,g6,Nf3,Bg7,d4,e6,Nc3,Ne7,e5,O-O,Bd3,b6,Be4,c6,Be3,d5,exd6,Qxd6,Qd2,Nf5,O-O-O,a5,a3,Ba6,g4,Nxe3,Qxe3,Ra7,h4,f5,gxf5,exf5,Bd3,Bc8,d5,Bxc3,bxc3,Qxd5,Qxb6,Rb7,Qd4,Qxf3,Bc4+,Rff7,Qd8+,Kg7,Bxf7,Qxc3,Qxc8,Qxa3+,Kd2,Rd7+,Qxd7,Nxd7,Bb3,Nc5,Ra1,Qb4+,Ke3,Qc3+,Kf4,Ne6+,Bxe6,Qd2+,Kg3', 'Qd6+,Kg2,Qxe6', 'https://lichess.org/training/aPvpG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ApVUg', 'Classical', 'Sebi-jens', 1768, 'scerbacov', 1614, 'e4,c5,Nf3,e6,Nc3,Nc6,Bb5,Nge7,d3,a6,Ba4,b5,Bb3,Na5,Bf4,c4,dxc4,Ng6,Bd2,Nxb3,cxb3,bxc4,bxc4,Nh4,Bg5', 'Nxf3+,Qxf3,Qxg5', 'https://lichess.org/training/ApVUg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('apwcY', 'Rapid', 'ZyamilovSamat2010', 1884, 'Carpe7diem', 1966, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Nc3,Nc6,Bg5,Ne4,Nxe4,dxe4,Ne5,Bf5,Bb5', 'Qa5+,Qd2,Qxb5', 'https://lichess.org/training/apwcY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('APwuh', 'Classical', 'Grigoden', 1790, 'ozha', 1815, 'd4,d5,c4,dxc4,e4,Nc6,Nf3,Nf6,Nc3,e5,d5,Nd4,Nxe5,Bc5,Bxc4,Ng4,Nxg4,Bxg4,f3,Nxf3+,gxf3,Qh4+,Kd2,Qf2+,Qe2,Be3+,Kd1', 'Bxf3,Kc2,Bxe2', 'https://lichess.org/training/APwuh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('APy2F', 'Rapid', 'imprevedibile', 1999, 'Mate96', 2237, 'd4,e6,c4,f5,Nf3,Nf6,g3,Bb4+,Bd2,Qe7,Bg2,O-O,O-O,Bxd2,Qxd2,Ne4,Qc2,d6,Nc3,Nxc3,Qxc3,a5,b3,Nd7,e3,Nf6,Nd2,e5,a3,c6,b4,axb4,axb4,Bd7,c5,exd4,exd4,d5,Rae1,Qf7,Nf3,Ne4,Qb2,f4,Ne5,Qf5,Bxe4,dxe4,Nxd7,f3,Ne5', 'Qh3,Qb3+,Kh8,Nxf3,exf3', 'https://lichess.org/training/APy2F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('apZHq', 'Rapid', 'Hierophantc4', 2065, 'chivchiv', 2033, 'f4,d5,Nf3,Bf5,e3,e6,Be2,h6,O-O,Nf6,d3,Bc5,Qe1,c6,b4,Be7,a4,a6,Na3,Nbd7,Bb2,Qb6,Nd4,Bxb4,c3,Bc5,Qd2,Bxd4,cxd4,O-O,a5,Qc7,Rab1,Rab8,h3,Bh7,Bf3,Rfd8,g4,c5,Rfc1,Qd6,dxc5,Nxc5,Be5,Qe7,Qb4,Rbc8,Rb3,Qf8,Rbc3,Nxd3', 'Qxf8+,Rxf8,Rxc8,Nxc1,Rxc1', 'https://lichess.org/training/apZHq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Aq0pk', 'Blitz', 'alozorro', 2060, 'Mihamednoaman', 2054, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,Bd7,d3,Nf6,Nbd2,Be7,Nf1,a6,Ba4,O-O,Ne3,h6,Bd2,b5,Bc2,Re8,Qe2,Bf8,O-O-O,a5,d4,exd4,Nxd4,Nxd4,cxd4,Nxe4,Qd3,f5,Rdf1,Nxd2,Kxd2,c5,Nxf5,c4', 'Nxh6+,gxh6,Qh7#', 'https://lichess.org/training/Aq0pk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aQ1Jk', 'Rapid', 'CHN1707', 1822, 'outtheworld', 1915, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Nc3,e6,Nf3,Nf6,Be3,Nd5,Nxd5,cxd5,Bb5+,Nc6,Ne5', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/aQ1Jk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aq4b5', 'Blitz', 'friarnator', 2072, 'LM Assios', 2070, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,e6,Bc4,a6,O-O,Nf6,e5,Ng4,Qe2,h5,Rd1,Bc5,Ne4,Be7,Bf4,b5,Bb3,Bb7,h3,Nh6,Nd6+,Bxd6,exd6,Nf5,Bc2,Nh4,Ng5,Nb4,Be4,Nc6,g3,Ng6,Bxg6,fxg6,Qe4,Qf6,Nf3,O-O,h4,e5,Nxe5,Nxe5,Qxe5,Qf7,Rac1,Rae8,Qg5,Bc6,b3,Re2', 'Rxc6,dxc6,d7', 'https://lichess.org/training/aq4b5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AQ4Eu', 'Rapid', 'Aslanbi1979', 1736, 'Blunderkoning', 1841, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Bc4,e6,Bg5,Be7,O-O,O-O,f4,a6,f5,e5,Nxc6,bxc6,Qf3,Rb8,Qg3,Nh5,Bxe7,Nxg3,Bxd8,Nxf1,Bg5,Rxb2,Bb3,d5,Rxf1,Bb7,Na4,Rxb3,cxb3,f6,Be3,d4,Bd2,Rd8,Nc5,Bc8,Rc1,g6,g4,gxf5,exf5,Kf7,Nd3,e4,Nb4,e3,Be1,Bb7,Nxc6,Bxc6,Rxc6,d3,Rc7+,Kg8,Re7', 'd2,Rxe3,d1=Q', 'https://lichess.org/training/AQ4Eu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aq4zm', 'Rapid', 'Czarnek', 1836, 'ausuhov', 1862, 'e4,d5,exd5,c6,dxc6,e5,cxb7,Bxb7,d3,Bc5,Nc3,f5,Be3,Bxe3,fxe3,Qb6,Qd2,Nf6,Nf3,f4,e4,Nbd7,Qe2', 'Qxb2,Rb1,Qxc3+', 'https://lichess.org/training/aq4zm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aQ5VI', 'Rapid', 'Gtnh', 2009, 'HedayatN', 1846, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,a6,Ba4,Bd7,O-O,h6,d4,exd4,cxd4,Be7,Nc3,b5,Bb3,b4,Nd5,Nf6,Nxe7,Qxe7,e5,Nh7,Bd5,O-O,Bf4,Rae8,Qc2,Na7,Qxc7,dxe5,Nxe5,Bb5,Qxe7,Rxe7,Rfe1,Nf6,Bb3,Rd8,Nxf7,Rxf7,Re7,Rd7', 'Bxf7+,Kf8,Rxd7', 'https://lichess.org/training/aQ5VI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aQ66K', 'Blitz', 'bidi73', 1626, 'Jmkaragulian1', 1718, 'e4,e5,Nc3,Bb4,Nf3,Bxc3,dxc3,d6,Bc4,Nf6,Ng5,O-O,h4,Bg4,f3,Bh5,g4,h6,gxh5,hxg5,Bxg5,Nbd7,h6,gxh6,Bxh6,Nh5,Rg1+,Kh7,Bxf8,Qxh4+,Kd2,Rxf8,Be2,Qf4+,Kd3,Nc5+,Kc4,b5+,Kb4,a5+,Ka3,b4+,cxb4,Qe3+,Bd3,axb4+,Kxb4,Nxd3+,cxd3,Rb8+,Ka3,Qa7+,Qa4', 'Qc5+,b4,Qc3+,Qb3,Ra8#', 'https://lichess.org/training/aQ66K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AQ6EX', 'Blitz', 'Roman-Kalita', 1558, 'DannyTera', 1565, 'e4,c5,Nf3,d6,Bc4,Nf6,Ng5,e6,d3,h6,Nxf7,Kxf7,O-O,Be7,f4,Rf8,f5,Kg8,Rf3,a6,Rg3,Kh7,a3,b5,Ba2,exf5,exf5,Bxf5,Nc3,Nc6,Nd5,Ne5,Nxf6+,Bxf6,Qh5,Bg6,Qe2,Bh4,Rh3,Qf6,Be3,Rae8,Bd5,Nd7,Bf3,d5,Qd2,d4,Bf2,Bxf2+,Qxf2,Ne5,Rf1,Ng4,Bxg4', 'Qxf2+,Rxf2,Re1+,Rf1,Rexf1#', 'https://lichess.org/training/AQ6EX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aq7NA', 'Rapid', 'Vladimir10', 1914, 'sergiokumic', 1825, 'e4,c5,Nf3,d6,Bc4,e6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,Be7,h4,Nbd7,h5,Qc7,Bd3,Ne5,h6,g6,f4,Nxd3+,Qxd3,e5,fxe5,dxe5,Nf3,Bg4,Bxf6,Bxf6,Nd5,Qd6,O-O-O,O-O,Rdf1,Bd8,Nh2,Be6', 'Nf6+,Bxf6,Qxd6,Bg5+,Kb1', 'https://lichess.org/training/aq7NA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AQAfT', 'Classical', 'CanyoneroXH', 1656, 'MrSpock79', 1665, 'd4,d5,Bf4,Nc6,e3,Bf5,Nf3,Nb4,Bb5+,Bd7,Bxd7+,Qxd7,c3,Nc6,O-O,Nf6,Nbd2,Nh5,Ne5,Qe6,Qxh5,g6,Qg4,f5,Qg5,Nxe5,Bxe5,h6,Qf4,g5,Qf3,g4,Qf4,Rg8,Bxc7,Rc8,Be5,h5,Nb3,b6,Nc1,Bh6,Qg3,Bg5,Bf4', 'h4,Bxg5,hxg3', 'https://lichess.org/training/AQAfT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AQAUS', 'Rapid', 'GrebnowVova', 2026, 'LoganFive', 2159, 'e4,c5,Nc3,Nc6,Nge2,Nf6,g3,d6,h3,g6,Bg2,Bg7,O-O,O-O,d3,Rb8,f4,e6,g4,Bd7,Ng3,b5,f5,b4,Nce2,Ne5,g5,Ne8,f6,Bh8,d4,cxd4,Nxd4,Qb6,Be3,Qc7,b3,Bc8,Nf3,Nxf3+,Bxf3,Ba6,Rf2,Rc8,Rc1,Bb5,Nh1,a5,Rg2,Bc6,Nf2,Rd8,Ng4,h5,Nh6+,Kh7,Bxh5,Bxe4,Rg4,Bf5,Rh4,d5,Bg4', 'Qg3+,Kf1,Qxh4,Qe1,Qxe1+', 'https://lichess.org/training/AQAUS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AQCIL', 'Rapid', 'roquemartinez', 1618, 'dktpham', 1609, 'e4,c5,Nf3,d6,c3,Nc6,d4,cxd4,cxd4,Nf6,Nc3,g6,Bd3,Bg7,O-O,O-O,a3,a6,Be3,b5,Qd2,Ng4,Bf4,e5,dxe5,Ngxe5,Nxe5,Nxe5,Nd5,Bb7,Rac1,Bxd5,Bxe5,Bxe5,exd5,Qh4,g3,Qd4,Qe2,Rfe8,Rfe1,Kg7,Rc2,Bf6,Be4,Re7,Rd2', 'Rxe4,Rxd4,Rxe2,Rxe2,Bxd4', 'https://lichess.org/training/AQCIL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AqDqN', 'Blitz', 'CM Davigator', 2260, 'michaelagung1109', 2269, 'e4,e6,d4,d5,Nc3,Nf6,e5,Nfd7,f4,c5,Nf3,Nc6,Be3,b6,Bb5,Bb7,O-O,g6,g4,h5,f5,hxg4,fxe6,fxe6,Ng5,Qe7,Bxc6,Bxc6,Qxg4,Bh6,Rf7,Qxf7,Nxf7,Bxe3+,Kg2,Kxf7,Qf3+,Ke7,Qxe3,cxd4,Qxd4,Rh5,Rf1,Rah8,Qf4,d4+,Ne4,Rxe5,Qf7+,Kd8,Qg7,Re8,Rf7,Rxe4,Kf2,Re5,Qxg6,Rf5+', 'Rxf5,exf5,Qxc6', 'https://lichess.org/training/AqDqN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AqdzQ', 'Blitz', 'medfischer', 2059, 'AdVitamEternam', 2063, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Be3,c5,Qd2,Nc6,d5,Na5,Rc1,c4,Be2,O-O,Bf3,b5,Ne2,Bb7,O-O,e6,Rfd1,exd5,exd5,Qd7,Bc5,Rfe8,Bb4,Qc7,Nd4,a6,d6,Qb6,Bxa5,Qxa5,Bxb7,Rad8,Bc6,Re6,Qg5,Rexd6,Bf3,Qxa2,Nc6,Rxd1+,Rxd1,Rxd1+,Bxd1,Qa1,Qd2,Bxc3,Qd8+,Kg7,h4,b4,h5,b3,Ne7,b2,h6+,Kxh6,Qf8+,Kg5,f4+,Kf6,Nd5+,Kf5,Nxc3,Qxd1+,Nxd1,b1=Q,Qd6,g5', 'Qe5+,Kg6,Qxg5#', 'https://lichess.org/training/AqdzQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aqEKP', 'Classical', 'Andro15', 1615, 'Nerio36', 1621, 'd4,e6,c4,Nf6,Nc3,Nc6,e4,Bb4,f3,e5,d5,Nd4,a3,Ba5,Ne2,c6,b4,Bb6,c5,Bc7,d6,Ba5,bxa5,Qxa5,Bd2,Qd8,Be3,O-O,Nxd4,exd4,Bxd4,b6,Bd3,bxc5,Bxc5,Qa5,Bb4,Qe5,Ne2,c5,Bc3,Qxd6,e5,Qb6,exf6,gxf6,O-O,c4+,Bd4,Qc6,Be4,d5,Bc2,Be6,Bxf6,Rae8,Nf4,Bf5,Bxf5,Qxf6,Qc2,Qd4+,Kh1,Qxf4,Bxh7+,Kh8,Bf5,Re5,Bg4,Rfe8,Qc3,f6,Qc2,Re2,Qf5,Qxf5,Bxf5,d4,Rac1,d3,Rxc4,d2,Rd4', 'Re1,Kg1,Rxf1+,Kxf1,Re1+,Kf2,d1=Q,Rxd1,Rxd1', 'https://lichess.org/training/aqEKP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aqGW4', 'Rapid', 'meccp1701', 1814, 'Stefanxd', 1896, 'd4,e6,c4,b6,Nc3,Bb4,Nf3,Bb7,e3,Nf6,a3,Bxc3+,bxc3,Ne4,Qc2,d6,Bd3,Nf6,e4,Nbd7,O-O,Qe7,e5,dxe5,dxe5,Ng4,Be4,O-O-O,Bg5,f6,exf6,Ngxf6,Rfe1,h6,Bh4,g5,Bg3,Bxe4,Rxe4,Nxe4,Qxe4,Kb8,Nd4,Nc5,Qe3,Qd7,h3,Kb7,Nb5,c6,Nd6+,Ka8,a4,a5,Be5,Rhf8,Qd4,Nb3', 'Qxb6,Rb8,Qa6+,Qa7,Qxc6+', 'https://lichess.org/training/aqGW4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AqJCq', 'Blitz', 'gsulliv6', 1594, 'aaaSashaMGGU', 1554, 'e4,e5,c3,Nc6,d4,exd4,cxd4,Bb4+,Nc3,d6,Nf3,Bg4,Be2,Qe7,Bg5,Qxe4,O-O,Bxc3,bxc3,f6,Bh4,Bxf3,Bxf3,Qxh4,Bxc6+,bxc6,Re1+,Kd7,Qe2,f5', 'Qe6+,Kd8,Qe8#', 'https://lichess.org/training/AqJCq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aQJhN', 'Rapid', 'jhbdsv13', 1572, 'Holobas', 1666, 'd4,d5,Nc3,Nf6,Bf4,a6,f3,Bf5,Qd2,e6,a3,Bd6,h4,h6,h5,c6,g4,Bh7,g5,Bxf4,Qxf4,hxg5,Qxg5,Bxc2,Qxg7,Rxh5', 'Rxh5,Nxh5,Qh8+,Ke7,Qxh5', 'https://lichess.org/training/aQJhN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AQkCJ', 'Blitz', 'Nueces', 1674, 'bmv', 1747, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d3,d6,h3,Be6,Bb3,d5,O-O,d4,Ne2,O-O,Bg5,h6,Bh4,g5,Bg3,Nh5,Bxe5,Nxe5,Nxe5,Bxb3,axb3,Qf6,Nd7,Qd6,Nxf8,Rxf8,Nxd4,Bxd4,Qxh5,Bxb2,Rxa7,Qc5,Rxb7,Qxc2,f4,Qxd3,fxg5,Bd4+,Kh2,Qxf1,gxh6,Qf4+,Kh1,Qf1+,Kh2,Bg1+,Kh1,Be3+,Kh2,Bf4+,g3,Qf2+,Kh1,Qe1+,Kg2,Qxg3+,Kf1,Qd3+,Kg2,Qg3+,Kf1,Qd3+,Kg2,Qxe4+,Kf1,Qxb7', 'Qg4+,Bg5,Qxg5+,Kh7,Qg7#', 'https://lichess.org/training/AQkCJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aqknD', 'Rapid', 'Al5en', 1977, 'the5es', 1731, 'd4,d5,c4,Nf6,Nc3,Bf5,Nf3,e6,c5,c6,Bg5,Be7,Bxf6,Bxf6,e3,Bg4,Be2,O-O,O-O,Re8,Nd2,Bxe2,Nxe2,e5,Nf3,e4,Ne1,Nd7,Nf4,Qc7,Qg4,Nb8,Nh5,Re6,f3,Nd7,fxe4,dxe4,Rxf6,g6,Rxe6,fxe6,Qxe6+,Kf8,Nf6,Nxf6,Qxf6+,Kg8,g3,Rf8,Qe6+,Kh8,Qxe4,Qf7,Ng2', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/aqknD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Aql2S', 'Rapid', 'Sixbroam', 1761, 'Robs01', 1755, 'd4,c5,d5,e6,c4,Nf6,Nc3,Be7,d6,Bf8,Bg5,h6,Bxf6,gxf6,Nf3,Nc6,e3,b6', 'Nb5,Bg7,Nc7+,Kf8,Nxa8', 'https://lichess.org/training/Aql2S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aqlcb', 'Blitz', 'IM AttackingBeast', 2691, 'drawingchest', 2611, 'e4,e6,d4,d5,Nd2,Nf6,e5,Ne4,Bd3,Nxd2,Bxd2,c5,dxc5,Nc6,Nf3,Bxc5,O-O,f6,exf6,Qxf6,Bc3,Qh6,Qc1,Qxc1,Raxc1,O-O,Rce1,Rxf3,gxf3,Bd7,f4,Rf8,Be5,Nd4,Kg2,Nf5,c4,Bc6,cxd5,exd5,Rc1,Bb6,Rfe1,Nh4+,Kh3,Nf3,Re2,Nxe5,fxe5', 'Rf3+,Kg4,Rxd3', 'https://lichess.org/training/aqlcb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aQQ2Y', 'Rapid', 'SHogdahl', 2013, 'ilya2002', 1922, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,Nfd7,Nge2,c5,d5,Nb6,Nf4,f5,Be2,O-O,a4,a5,O-O,Na6,Be3,Nb4,Qc1,g5,Nh5,f4,Bf2,Bh8,h4,Qe8,g4,h6,Kh2,Nd7,Rg1,Ne5,Nb5,Qg6,Nc7,Rb8,Qd1,Bd7,hxg5,hxg5,Nb5,Bxb5,axb5,b6,Be1,Rf7,Rh1,Rh7,Kg2,Rf8,Bf2,Rff7,Be1,Rf8,Bc3,Nxg4,fxg4,Qxe4+,Kf2,Qe3+,Kg2,f3+,Bxf3,Rxf3', 'Qxf3,Qxf3+,Kxf3', 'https://lichess.org/training/aQQ2Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aQQ5j', 'Blitz', 'Fettberg', 1654, 'guythatmightwin', 1666, 'Nf3,Nf6,d4,g6,c4,d5,b3,c6,Nc3,Be6,Bb2,Bg7,g3,O-O,Bg2,Qa5,O-O,Nbd7,Ne5,Qc7,c5,Nxe5,dxe5,Qxe5,Na4,Qc7,Re1,Rad8,Qc2,Bf5,Qd2,Ne4,Bxe4,Bxe4,Bxg7,Kxg7,Qd4+,e5,Qe3,Bf5,Rad1,a5,Nb6,Ra8,a4,Ra6,Rd2,d4,Qg5,f6,Qh4,g5,Qh5,Bg6,Qg4,Rxb6,cxb6,Qxb6,f4,gxf4,gxf4,Kf7,Qd7+,Kg8,fxe5,fxe5,Qe6+,Bf7,Qg4+,Kh8,Rf1,Rg8,Qxg8+,Bxg8,Rf8,d3+,Kf1,e4,exd3,exd3,Rdf2,Kg7,R8f3,Bxb3', 'Rg2+,Kh8,Rf8+,Bg8,Rgxg8#', 'https://lichess.org/training/aQQ5j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aQQE1', 'Blitz', 'FM Frogkiller', 2304, 'sigmadepp', 2017, 'd4,d6,e4,Nf6,Bd3,e5,Nf3,Bg4,c3,Be7,h3,Bh5,Nbd2,c6,O-O,Nbd7,Re1,O-O,Nf1,Re8,Ng3,Bg6,Nh4,Bf8,Nhf5,d5,exd5,cxd5,dxe5,Nxe5,Bc2,Qb6,Rb1,Nc4,Rxe8,Rxe8,Bg5,Bc5,Qf1,Ne4,Nxe4,dxe4,Qxc4,Bxf2+,Kh1,Bxf5,Bb3,Bg6,Rf1,e3,Qe2,Qc6,Bc4,Be4,Bxe3,Bxg2+,Kh2,Qd6+,Kxg2', 'Qg3+,Kh1,Qxh3#', 'https://lichess.org/training/aQQE1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AqR7N', 'Rapid', 'Arunajagadeesh2005', 1605, 'AniketE', 1746, 'd4,Nf6,Bf4,e6,Nf3,b6,e3,Bb7,Bd3,Nc6,c3,Be7,Nbd2,O-O,O-O,Nd5,Bg3,f5,Re1,f4,exf4,Nxf4,Bxf4,Rxf4,Ne5,Nxe5,Rxe5,Bd6,Re3,Rh4,g3,Qg5,Be4,Bxe4,Rxe4,Rxe4,Nxe4,Qd5,Qc2,Rf8,Re1,Be7,b3,Kh8,Qd3,Qf5,Qe3,d5,Nd2,Bd6,Qxe6', 'Qxf2+,Kh1,Qxd2', 'https://lichess.org/training/AqR7N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AqrcE', 'Blitz', 'MichalPawlak', 2087, 'IM IvanMarinkovic', 2557, 'c4,Nf6,Nc3,e5,g3,d5,cxd5,Nxd5,Nf3,Nc6,Bg2,Nde7,O-O,g6,d3,Bg7,Be3,O-O,Rc1,h6,Nd2,Nd4,Nc4,Nef5,Ne4,Nxe3,fxe3,Ne6,g4,Qe7,Qb3,Kh7,h3,a5,a3,Ra7,Qb5,Bd7,Qb3,b6,Ncd2,a4,Qc2,Kh8,Ng3,c5,Nc4,b5,Nd2,Rc7,e4,Qg5,Nf3,Qe3+,Kh2,c4,Qd2,Qxd2,Nxd2,Rfc8,dxc4,bxc4,Rf3,Bb5,Rfc3,Bf6,e3,Nc5,Ne2,Nb3,R1c2,Bh4,Nf3,Bf6,Kg3,Kg7,h4,g5,hxg5,hxg5,Kf2,Kg6,Ng3,Bg7,Nf5,f6,Ng1,Bf8,Ne2,Nc5,Neg3,Nd3+,Kf3,Rh7', 'Rxd3,cxd3,Rxc8', 'https://lichess.org/training/AqrcE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AQsaq', 'Rapid', 'jedyap127', 1900, 'BullsAndCows', 1984, 'd4,Nf6,c4,e6,e3,Bb4+,Nc3,Ne4,Qc2,d5,a3,Bxc3+,bxc3,O-O,Nf3,b6,cxd5,exd5,Bd3,Nf6,h3,c5,Ng5,h6,Nh7,Nxh7,Bxh7+,Kh8,Bf5,c4,O-O,Nc6,e4,Ne7,Bxc8,Rxc8,e5,b5,Re1,Rc6,Re3,a5,Rg3,Qb6,Bf4,b4,axb4,axb4,cxb4,Qxb4,Ra7,Ng6,Qc1,c3,Bxh6,gxh6,Qxh6+,Kg8,Rg5,Qb1+,Kh2,Qc1', 'Rxg6+,Rxg6,Qxc1', 'https://lichess.org/training/AQsaq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AqTTh', 'Rapid', 'Fazolo', 1740, 'srkila64', 1701, 'd4,d5,Nf3,c6,e3,Bg4,h3,Bh5,g4,Bg6,Bd3,Bxd3,Qxd3,Nd7,b3,e6,Bb2,h6,Nbd2,Ngf6,c4,dxc4,Nxc4,Nb6,Nce5,Qd5,e4,Qxe4+,Qxe4,Nxe4,O-O,Bd6,Rfe1,Nf6,Kg2,O-O,Rh1,Nfd7,h4,f6,Nxd7,Nxd7,g5,fxg5,hxg5,hxg5,Nxg5,Rf6,d5,Rg6,Bc1,exd5,Kf3,Rf8+,Ke2,Re8+,Kd3,Nc5+,Kc2,Ne4,Nxe4,Rxe4,Be3,a6,Rh5,Be7,Rah1,Bf6,Rh8+,Kf7,Bc5,Be7,Bxe7,Rxe7,Rb8,Rf6,Rh2,Re8,Rxb7+,Re7,Rb6,Ra7,Rh8,a5,Rbb8,Kg6,Rb6,Rxf2+,Kb1,Rf6,a4,Re7,Rh1,Ra7,Rg1+,Kf7,Rb8,Rg6,Rf1+,Rf6,Re1,Kg6,Rg1+,Kf7,Re1,Rf2,Ree8,Rf6,Rf8+,Kg6,Rfc8,Rf1+,Ka2,Rf2+,Kb1,Rf6,Rb6,Kf5,Rh8,g5,Rh2,g4,Rf2+,Kg5,Rg2,Kh4,Rb8,Kh3,Rg1,g3,Rh8+,Kg4,Rg8+,Kf5,Rf1+,Ke5', 'Re8+,Kd4,Rxf6', 'https://lichess.org/training/AqTTh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AQurr', 'Blitz', 'Liron-Zarhay', 1965, 'Eylon34', 1724, 'd4,d5,Bf4,Bf5,Nc3,c6,f3,Nf6,Qd2,e6,O-O-O,h6,g4,Bh7,g5,hxg5,Bxg5,Nbd7,e4,Qb8,exd5,Nxd5,Nxd5,cxd5,Bb5,Qc7,Bf4,Bd6,Nh3,O-O-O,Bxd6,Qxd6,Ng5,Bg6,Bd3,Kb8,Bxg6,fxg6,Nf7,Qc6,Nxh8,Rxh8,Rhg1,Nb6,b3,Qd6,f4,Rc8,Rxg6,Rc6,f5,Nc4,Qf2', 'Qa3+,Kb1,Qb2#', 'https://lichess.org/training/AQurr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AQvPN', 'Rapid', 'MelonLord0', 1820, 'brynz111', 1809, 'e4,a6,d4,b5,Nc3,Bb7,Be3,e6,f4,Nf6,Bd3,Bb4,Ne2,O-O,e5,Nd5,Bd2,Nxc3,Nxc3,Bxc3,Bxc3,Bxg2,Rg1,Qh4+,Kd2,Qxf4+,Ke1,Qxh2,Bxh7+,Kxh7,Qd3+,g6,Qe3,Qh4+,Kd2,Qg4,Bb4,c5,Bxc5,Rh8,Be7,Nc6,Bf6,Nxd4', 'Rh1+,Bxh1,Rxh1+', 'https://lichess.org/training/AQvPN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aqvwn', 'Blitz', 'dendy321', 2530, 'GM E-Shaposhnikov', 2663, 'f4,c5,Nf3,Nc6,e3,g6,d4,d5,c3,Bg7,Bd3,Nh6,O-O,c4,Bc2,Bf5,Ba4,O-O,Ne5,Nxe5,fxe5,Bd3,Rf3,f6,exf6,exf6,b3,f5,bxc4,dxc4,Nd2,Ng4,h3,Nf6,Bc2,Bxc2,Qxc2,Qd5,Rb1,b5,a4,a6,Qb2,Rfb8,Qa2,h5,Ba3,bxa4,Rxb8+,Rxb8,Rf1,Rb3,Nxb3,cxb3,Qe2,Ne4,Qxa6,Nd2,Rf2,Nc4,Qxa4,Bh6,Qe8+,Kh7,Qe7+,Bg7,h4,Qa5,Bb4', 'Qa1+,Kh2,b2,Rxb2,Qxb2', 'https://lichess.org/training/aqvwn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AqVXU', 'Rapid', 'z_vasiliy', 1862, 'gfszk', 1797, 'd4,Nf6,c4,d5,cxd5,Nxd5,e4,Nb4,d5,e6,a3,N4a6,b4,exd5,exd5,c6,Bc4,Nc7,Qe2+,Qe7,dxc6,Qxe2+,Nxe2,Nxc6,Bb2,Be6,Bxe6,Nxe6,O-O,O-O-O,Nbc3,a6,b5,axb5,Nxb5', 'Rd2,Bc1,Rxe2', 'https://lichess.org/training/AqVXU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AQwIq', 'Rapid', 'andreinik333', 1659, 'Oleksandr-dera', 1767, 'e4,e5,Nc3,Nf6,Bc4,d6,h3,Be7,Nf3,c6,d3,a5,a3,b5,Ba2,O-O,O-O,Be6,Bg5,Nbd7,Bh4,h6,Bg3,Nh5,Bh2,Bxa2,Nxa2,Nf4,Nc3,Rb8,Qd2,Ne6,b4,axb4,axb4,Ng5,Nxg5,Bxg5,f4,exf4,Bxf4,Bxf4,Qxf4,Ne5,Kh1,Ra8,Ne2,Rxa1,Rxa1,Qd7,Ng3,Ng6,Qf2,c5,bxc5,dxc5,Qxc5,Rc8,Qf5,Qxf5,Nxf5,Rxc2,Rb1,Nf4,Rxb5,Nxd3,Rb8+,Kh7,Nd6,Rc1+,Kh2,Nf4,Nxf7,Rc2,Kg3,Nxg2,e5,Ne3,e6,Rc6', 'Rh8+,Kg6,Ne5+', 'https://lichess.org/training/AQwIq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aQxg6', 'Rapid', 'Pipogazela', 1998, 'IvkoL', 2043, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,c3,e6,Be3,Nf6,Bd3,Bd6,N1e2,Nbd7,Bxg6,hxg6,Qb3,Nb6,O-O-O,a5,a3,a4,Qc2,Nc4,Bf4,b5,Ne4,Nxe4,Qxe4,Rc8,Bg3,O-O,h4,Qe7,Qc2,Bxg3,Nxg3,Rfd8,Ne4,Rd5,Nc5,e5,Rhe1,Qxh4,g3,Qf6,Qe2,exd4,cxd4,Rxd4', 'Qe8+,Rxe8,Rxe8+,Kh7,Rh1+,Rh4,Rxh4+,Qxh4,gxh4', 'https://lichess.org/training/aQxg6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aqXS3', 'Classical', 'cotrina16', 1680, 'Xazarin', 1961, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Bd3,h6,O-O,Ne7,Re1,O-O,Nbd2,Nbc6,c3,Bg4,Nf1,Ng6,h3,Bxf3,Qxf3,Nh4,Qg4,f5,Qh5,Qf6,g3,Ng6,Ne3,Rae8,Bd2,Nce7,Kh2,f4,Nxd5', 'fxg3+,fxg3,Qf2+', 'https://lichess.org/training/aqXS3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aqXvt', 'Classical', 'Nikole1333', 1760, 'JAILBIRD1946', 2096, 'd4,d5,Bf4,c6,e3,Qb6,b3,Bf5,Bd3,Bxd3,Qxd3,Nf6,Nf3,e6,Bxb8,Rxb8,O-O,Bd6,c4,Qc7,cxd5,exd5,Nc3,Qe7,a3,O-O,b4,Ne4,Nxe4', 'dxe4,Qe2,exf3', 'https://lichess.org/training/aqXvt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AqydZ', 'Classical', 'kobuniko', 1721, 'youneslil', 1719, 'd4,e6,Bf4,d5,e3,c5,c4,Nc6,Nf3,Nf6,Nc3,Be7,Be2,O-O,O-O,cxd4,Nxd4,dxc4,Bxc4,Bc5,Nxc6,Qxd1,Rfxd1,bxc6,a3,Bb7,b4,Bb6,Na4,Ne4,Nxb6,axb6,Rd3,f6,Bxe6+,Kh8,Bf5,Rfe8,Rad1,Ba6,Rd8,Ng5,R8d7,Be2,R1d4,c5,bxc5,bxc5,Rd2,Bb5,R7d5,Rxa3,Bc7,Ba4,h3,g6,Bd7,Re7,Bxa4,Rxa4,Rd8+,Kg7,Bd6,Rf7,Bxc5,Ne4,R2d5,Ra1+,Kh2,Nxf2,R5d7', 'Rh1+,Kg3,Ne4+,Kf3,Nxc5,Rxf7+,Kxf7', 'https://lichess.org/training/AqydZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AQyIb', 'Blitz', 'alki1', 1864, 'Eudes2618', 1680, 'e4,e5,Bc4,Bc5,Nf3,d6,d4,Bxd4,Bxf7+,Kxf7,Ng5+,Kf8,c3,Bxf2+,Kxf2,Qf6+,Ke1,h6,Rf1,hxg5,Bxg5,Qxf1+,Kxf1,Be6,Qf3+,Bf7,h3,Nd7,Nd2,Rh5,Be3,Ngf6,Ke2,Rh7,Rf1,Bh5,g4,Bf7,Kd3,Ke7,g5,Nh5,Qxf7+,Kd8,g6,Rh8,Bg5+,Kc8,h4,b6,b4,Nf4+,Bxf4,exf4,Rxf4,Ne5+,Kd4,Nxf7,Rxf7,Kb7,Rxg7,Rxh4,Nf3,Rg4,Kd5,Re8,Nd2,Re5+,Kd4,Reg5,Re7,Rxg6,Nc4,Rg1,e5,Rd1+,Ke3,d5,Nd6+,Kc6', 'b5+,Kc5,Rxc7#', 'https://lichess.org/training/AQyIb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aQyyY', 'Rapid', 'wladimer', 1863, 'bonfjols', 1749, 'e4,e6,Nf3,d5,e5,c5,c3,Nc6,d4,Qb6,Be3,Qxb2,Nbd2,Qxc3,Bb5,Bd7,Bxc6,Bxc6,Rc1,Qa3,O-O,cxd4,Nxd4,Bc5,Nxc6,Bxe3,Nb3,Bxc1,Ncd4,Nh6,Nxc1,O-O,Nb5,Qc5,Nd6,Nf5,Nd3,Qd4,Nb5,Qc4,Na3,Qxa2,Nb5,Rfc8,Nd6,Nxd6,exd6,Qa3,d7,Rd8,Ne5,Qc3,Re1,f6,Re3,Qc7,Ng4,Qxd7,Rg3,Kf7,Rf3,Rac8', 'Ne5+,Kg8,Nxd7', 'https://lichess.org/training/aQyyY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aQzDx', 'Rapid', 'alainwalter', 1859, 'Warrior_OO7', 1836, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e5,Nf5,d5,Ng3,d4,Nce2,Be7,O-O,O-O,h3,b5,f4,Nbd7,fxe5,Nxe5,Bf4,Ng6,Nf5,Bxf5,exf5,Nxf4,Nxf4,Bd6,Qf3,Re8,Rae1,Qc7,Nd5,Nxd5,Qxd5,Rxe1', 'Qxa8+,Qb8,Qxb8+,Bxb8,Rxe1', 'https://lichess.org/training/aQzDx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aR00q', 'Rapid', 'BlackSnow777', 2017, 'anasayan', 2109, 'e4,c5,Nc3,Nc6,Bb5,Nd4,Ba4,a6,Bb3,e6,Nf3,Qc7,Nxd4,cxd4,Ne2,Bc5,d3,Nf6,Bg5,Bb4+,Bd2,Bxd2+,Qxd2,e5,Rc1,O-O,h3,d6,g4,Be6,Ng3,Rfd8,g5,Ne8,Nf5,Bxf5,exf5,d5,h4,e4,dxe4,dxe4,g6,Nd6,Qg5,e3,f6,exf2+,Kf1,hxg6,Qxg6,Ne8,fxg7,Rd6,Qg3,Nxg7,h5,Kh8,h6,Nf5', 'Qe5+,f6,Qxf5', 'https://lichess.org/training/aR00q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AR5Of', 'Rapid', 'kral_ege2011', 1759, 'Ali_mam', 1794, 'd4,e6,c4,d5,Nf3,Bb4+,Nc3,c6,g3,Qa5,Bd2,Nf6,a3,Bxc3,Bxc3,Qc7,Bg2,O-O,O-O,Nbd7,Rc1,Ne4,cxd5,exd5,Bb4,Re8,Nd2,Qd8,f3,Nxd2,Qxd2,Nf6,e4,dxe4,fxe4,b6,Rxc6,Bb7,Rd6,Qc8,Rc1,Qg4,e5,Bxg2,Kxg2,Ne4,Qd3,Nxd6,Bxd6,f6,Qc4+,Kh8,e6,Rxe6', 'Qc8+,Re8,Qxg4', 'https://lichess.org/training/AR5Of');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ar5U4', 'Rapid', 'Maxfel', 1632, 'ZloiGruzin', 1647, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,O-O,d6,d3,Be6,Bxe6,fxe6,Bg5,Qd7,Bxf6,gxf6,Na4,O-O-O,Nxc5,dxc5,c3,Rhg8,h3,f5,a3,Qg7,Nh4,Rdf8,Qf3,fxe4,Qxe4,Rf4,Qe3,Rxh4,Qg3,Kb8,Qxg7,Rxg7,Rae1,Rxh3,Re3,Rh6,f4,Rhg6,Re2,exf4,Rxf4,e5', 'Rf8+,Nd8,Rxd8#', 'https://lichess.org/training/Ar5U4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ar7kW', 'Blitz', 'NM PerpetualChess', 2213, 'HL7', 2202, 'e4,c5,Nc3,e6,f4,Nc6,Nf3,Nge7,Bb5,g6,O-O,Bg7,Qe1,O-O,e5,d5,exd6,Qxd6,Ne4,Qd5,d3,Nd4,Bc4,Qc6,Nxd4,Bxd4+,Kh1,b5,Bb3,c4,dxc4,bxc4,c3,cxb3,cxd4,Bb7,Nf6+,Kg7,Rf2,bxa2,Qe5,Rfd8,Nh5+,Kf8,Qg7+,Ke8', 'Nf6#', 'https://lichess.org/training/Ar7kW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AR8ZG', 'Blitz', 'chess_rapid', 1675, 'abdkh2017', 1671, 'd4,d6,c4,c6,Nc3,Bf5,e4,Bg6,Nf3,e6,Bd3,Be7,O-O,Nd7,a3,h5,e5,Bxd3,Qxd3,dxe5,dxe5,Qc7,Re1,O-O-O,Qe3,Kb8,b4,Nb6,Qe2,Nh6,c5,Nd5,Nxd5,exd5,Nd4,a6,Qf3,g6,e6,f6,Bf4,Bd6,Bxd6,Rxd6,cxd6,Qxd6,Qxf6,Rf8,Qxg6,Ng4,h3', 'Qh2+,Kf1,Rxf2#', 'https://lichess.org/training/AR8ZG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AR8zS', 'Rapid', 'Sathwik39', 1664, 'disco-potato7', 1637, 'd4,e5,dxe5,Nc6,Nf3,Bc5,Nc3,f6,exf6,Nxf6,g3,O-O,Bg2,Ng4,O-O,d5,Qxd5+,Qxd5,Nxd5,Bd6,Bg5,Re8,Nh4,Rxe2,Bf3,Re5,Bf4,Rh5,Bxd6,cxd6,Rfe1,Nd4,Re8+,Kf7,Bxg4,Bxg4,Rxa8,Ne2+,Kg2,Rxd5,Re1,Re5,Rxa7,Nf4+,Kf1', 'Bh3+,Ng2,Bxg2+,Kg1,Rxe1#', 'https://lichess.org/training/AR8zS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aR9Bs', 'Blitz', 'Jithesh_India', 1665, 'Duel-wielder', 1944, 'd4,Nf6,Bf4,e6,e3,d5,Nf3,Bd6,Ne5,Nc6,Bg3,O-O,Bd3,Ne4,c3,f5,Nd2,Qg5,O-O,Nxg3,fxg3,Qxe3+,Kh1,Bxe5,Re1,Qxd3,dxe5,Qb5,Qh5,Qxb2,Nf3,Qxc3,Ng5,h6,Nf3,Nb4,Rac1,Nc2,Re2,Bd7,Rexc2,Qe3,Rxc7,Bc6,Qg6,Qxc1+,Ng1,Bd7,Rxd7,Qg5', 'Rxg7+,Kh8,Rh7#', 'https://lichess.org/training/aR9Bs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ar9yK', 'Blitz', 'Azaved', 1794, 'jobijo', 1831, 'e4,e5,Nc3,Bc5,Nf3,d5,Nxd5,c6,Nc3,Nf6,d3,Ng4,Be3,Nxe3,fxe3,Bxe3,Qe2,Bd4,Nxd4,exd4,Nd1,O-O,g3,f5,Nf2,f4,gxf4,Rxf4,O-O-O,Be6,Nh3,Bg4,Qg2,Bxd1,Nxf4,g5,Ne6,Qe7,Nxg5,Kh8,Rg1,Bh5,Nf3,Nd7,Be2,Nf6,Nh4,Bxe2,Qxe2,Qe6,Nf5,Qxa2,Rg7,Qa1+,Kd2,Qxb2,Qg2,Qc3+,Kd1,Qa1+,Kd2,Qc3+,Kc1,Qa3+,Kd1,Qa1+,Ke2,Qc1', 'Rxh7+,Nxh7,Qg7#', 'https://lichess.org/training/ar9yK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('arbrv', 'Rapid', 'taverna135', 1756, 'pepitoperes', 1759, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,a6,Bxc6,dxc6,Nxe5,Qd6,Nc4,Qf6,e5,Qg6,d4,Ba7,Be3,Ne7,Qf3,Nd5,c3,Be6,Nbd2,h5,Qg3,Bg4,h3,O-O-O,hxg4,hxg4,f3,Qh7,fxg4,Kb8,Rf5', 'Qh1+,Kf2,Qxa1', 'https://lichess.org/training/arbrv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ARckt', 'Classical', 'HonorPanda', 1731, 'rrs2428', 1748, 'd4,d5,e3,c6,c3,Bf5,Bd3,Bxd3,Qxd3,e6,b3,Nf6,Nd2,Nbd7,f4,Be7,Ngf3,O-O,O-O,Re8,Ne5,Nxe5,fxe5,Nd7,Qe2,Rf8,Rf3,c5,Rh3,cxd4,exd4,Bg5,Qh5,h6,Nf3,Bxc1,Rxc1,Rc8,Qg4,Kh7,Ng5+,Kg8', 'Rxh6,gxh6,Nxe6+,Qg5,Nxg5', 'https://lichess.org/training/ARckt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ArCqR', 'Rapid', 'AlexBx', 1726, 'nikyu9', 1723, 'e4,e5,f4,exf4,Nf3,Nc6,d4,Nf6,Nc3,d5,Bd3,dxe4,Nxe4,Nxe4,Bxe4,Bd6,O-O,O-O,d5,Ne5,Bxf4,Bg4,Bxe5,Bxe5,Qd3,Bd6,Bxh7+,Kh8,h4,Bxf3,Rxf3,g6,h5,Kxh7,hxg6+,fxg6,Rh3+,Kg7,Qd4+,Rf6,Rf1,Qf8', 'Rxf6,Qxf6,Rh7+,Kxh7,Qxf6', 'https://lichess.org/training/ArCqR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ardoo', 'Rapid', 'Rolffael', 1694, 'novsm', 1669, 'd4,Nf6,c4,e6,a3,b6,Nc3,Bb7,Nf3,Be7,h3,O-O,e3,Nc6,d5,exd5,cxd5,Na5,e4,c6,b4,cxd5,bxa5,dxe4,Nd4,Bc5,a6,Bxd4,Qxd4,Bc6,Be3,d5,Bb5,Bxb5,Nxb5,Qc8,Rc1,Qxa6,a4,Rac8,Rxc8,Rxc8,O-O,Rc4,Qe5,h6,Qb8+,Kh7,Qxa7,Rxa4,Qxb6', 'Qxb6,Bxb6,Rb4', 'https://lichess.org/training/Ardoo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aRfdp', 'Rapid', 'amarras', 1646, 'Koalisyon', 1633, 'e4,e5,Nf3,Nc6,Bb5,Bc5,Nc3,d6,O-O,Nf6,d3,h6,Na4,Bb6,Nxb6,axb6,d4,O-O,d5,Nd4,Nxd4,exd4,Qxd4,Ra5,a4,Bd7,Bxd7,Qxd7,Bxh6,c5,Qc3,Qg4,f3,Qg6,Be3,Nd7,Qd2,Re8,b4,Re5,bxa5,Rh5,g4,Rh3,Qg2,Rh7,Rab1,Ne5,Rxb6,Nc4,Rxb7,f6,Bf2,Qh6,a6,Ne5,a7', 'Nxf3+,Kh1,Qxh2+,Qxh2,Rxh2#', 'https://lichess.org/training/aRfdp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aRfFQ', 'Classical', 'alesha1903207', 1839, 'ChangizThm', 1905, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Nf6,Nf3,Nc6,e3,Bf5,Be2,Bb4,O-O,O-O,Bd2,Re8,a3,Ba5,b4,Bb6,Ne5,Nxe5,dxe5,Rxe5,Nb5,Ne4,Nd4,Nxd2,Qxd2,Be4,f3,Bg6,Bd3,Bxd3,Qxd3,Qf6,Rae1,Rae8,Nc2,Qh4,Kh1,c6,Re2,Bc7,f4,Rh5,h3,Qg4,Nd4,g5,Ref2,Rh4,Rf3,Qd7,Rg3,f6,Rff3,Re4,Rf1,Kf7,Rgf3,gxf4,exf4,Kf8,Ne2,Qe7,Ng3,Rexf4,Rxf4,Bxf4', 'Nf5,Qe4,Qxe4', 'https://lichess.org/training/aRfFQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ARFpz', 'Rapid', 'demudo1965', 1636, 'Jupp3', 1785, 'e4,c5,Nc3,e6,Bc4,Nc6,d3,Nf6,h4,d5,exd5,exd5,Qe2+,Be7,Bb5,d4,Ne4,Qa5+,Bd2,Qxb5', 'Nd6+,Kd8,Nxb5', 'https://lichess.org/training/ARFpz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aRG44', 'Rapid', 'otger', 1742, 'nemessis91', 1761, 'e4,e5,Nf3,d6,Bc4,h6,O-O,Nf6,Re1,Nc6,c3,Be7,d4,exd4,cxd4,O-O,Nc3,Na5,Bd3,Bg4,h3,Bh5,Be2,d5,e5,Ne4,Be3,Nxc3,bxc3,Nc4,Bf4,Qd7,Qc1,f6,Bxh6,Bxf3,Bxf3,gxh6,Qxh6,Rf7,Bh5,Rh7,Qg6+,Kh8,Bg4,Rg8,Bxd7,Rxg6,Bf5,Rhg7,Bxg6,Rxg6,Rab1,b6,exf6,Bxf6,Re8+,Kh7,Rb5', 'Nd6,Rxd5,Nxe8', 'https://lichess.org/training/aRG44');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aRg80', 'Blitz', 'Usama2020', 1857, 'NM DoctorHeart', 2168, 'e4,d5,exd5,Nf6,Nc3,c6,dxc6,e5,cxb7,Bxb7,Qe2,Nc6,Nf3,Bc5,Nxe5,O-O,Nxc6,Bxc6,Qc4,Qd6,d4,Rfe8+,Be2,Bb4,Bd2,Bxg2,Rg1,Bf3,O-O-O,Bxc3', 'Bxf3,Bxd2+,Rxd2', 'https://lichess.org/training/aRg80');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aRGam', 'Rapid', 'GuardianRM', 2000, 'S19T65', 2086, 'd4,Nf6,c4,e6,Nc3,Bb4,f3,Bxc3+,bxc3,d6,e4,e5,Bd3,c5,Ne2,Nc6,d5,Na5,O-O,O-O,Bg5,h6,Bxf6,Qxf6,Ng3,b6,Nh5,Qg6,g4,Ba6,Qe2,Qg5,f4,exf4,Rxf4,Qe5,Rc1,g6,Nf6+,Kg7,Nh5+,gxh5,Rf5,Qe7,g5,hxg5', 'Qxh5,Rh8,Rxg5+,Qxg5+,Qxg5+', 'https://lichess.org/training/aRGam');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aRIiV', 'Rapid', 'tsitsipas', 1939, 'felipemago13', 1913, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Ngf6,Nc3,e6,a4,Be7,d4,cxd4,Qxd4,a6,b3,O-O,Bb2,Qc7,Rfd1,Rad8,Ne1,Nb8,Ne2,Nc6,Qe3,Ng4,Qg3,Nge5,f4,Ng6,f5,Nge5,Nf3,Bf6,Nxe5,Nxe5,Nf4,exf5,Nh5,Qe7,Kh1,g6,exf5,Bh4,f6,Bxf6,Nxf6+,Qxf6,Rf1,Qe6,Rae1,f6,h4,Qg4', 'Bxe5,Qxg3,Bxg3', 'https://lichess.org/training/aRIiV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ARilc', 'Rapid', 'essam100', 2198, 'gollydali', 2101, 'c4,Nf6,Nf3,c5,b3,Nc6,Bb2,d6,g3,e5,d3,Be7,Bg2,Bd7,O-O,Qc8,Re1,h5,h4,Ng4,e3,f5,Nc3,Be6,Nd5,Bf6,a3,Bxd5,cxd5,Ne7,d4,e4,Nd2,Qd7,Qc2,Rc8,Qb1,cxd4,exd4,g5,hxg5,Bxg5,Nxe4,fxe4,Qxe4,Nf6', 'Qg6+,Kf8,Qxg5', 'https://lichess.org/training/ARilc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('arjBn', 'Blitz', 'dfin92', 1728, 'PaperSkull', 1650, 'd4,c5,d5,c4,Nc3,Nf6,e4,b5,e5,b4,Nb5,Qa5,Bxc4,Ba6,Nc7+,Qxc7,Bxa6,Nxa6,exf6,exf6,Nf3,Be7,O-O,O-O,Qd3,Nc5,Qf5,g6,Qh3,Bd6,Be3,Ne4,Nd4,f5,Nb5,Qxc2,Nxd6,Nxd6,b3,Rac8,Bh6,Rfe8,Qh4,Ne4,f3,g5,Bxg5,Nxg5,Qxg5+,Kh8,Qf6+,Kg8,d6,Re6,Qg5+,Kf8,Rfd1,Rc6,Qh4,Rcxd6,Rdc1,Qd2,Qxh7,Re2,Qh8+,Ke7,Qh4+,f6,Re1,Rde6,Qh7+,Kd6,Red1', 'Re1+,Rxe1,Rxe1+,Rxe1,Qxe1#', 'https://lichess.org/training/arjBn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ARJxP', 'Rapid', 'vlad1945', 1657, 'LCA2110', 1685, 'd4,d5,Bf4,Nf6,e3,c5,dxc5,Bf5,Bd3,Bxd3,Qxd3,e6,Nf3,Bxc5,O-O,O-O,Bg5,Nbd7,Nbd2,Bd6,Kh1,h6,Bh4,Rc8,c3,Qb6,Rab1,Nc5,Qc2,Nfe4,Nxe4,Nxe4,Nd4,Qc7,g3,Be7,Bxe7,Qxe7,f4,Qf6,Nf3,Qg6,Ne5', 'Nxg3+,hxg3,Qxc2', 'https://lichess.org/training/ARJxP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ARkiY', 'Blitz', 'Dmitry_Gritsenko', 2411, 'IM gpel', 2448, 'e4,c5,d4,cxd4,c3,d3,c4,Nc6,Bxd3,g6,Nc3,Bg7,Nge2,Nf6,O-O,d6,h3,O-O,Be3,Bd7,b3,Rc8,Qd2,b6,Rad1,Ne5,Bb1,Bc6,f4,Ned7,f5,Nc5,Ng3,a6,Nd5,Bxd5,exd5,b5,cxb5,axb5,Bh6,Qb6,Kh1,b4,Qg5,Ncd7,Qh4,Ne5,Bf4,Rc3,Bxe5,dxe5,fxg6,hxg6,Ne4,Nxe4,Bxe4,Re3,Bd3,Qd4,Qxd4,exd4,Bc4,Ra8,Rf2,Rc3,d6,e6,Rdf1,Ra7,Bb5,Kf8', 'd7,Rxd7,Bxd7', 'https://lichess.org/training/ARkiY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ArkXq', 'Blitz', 'Dr_Bledow', 2529, 'FM Mazoetan', 2441, 'e4,d6,d4,Nf6,Nc3,g6,Be3,c6,Qd2,b5,Bd3,Nbd7,Nf3,e5,dxe5,Nxe5,Nxe5,dxe5,O-O,Ng4,Nxb5,Nxe3,Qxe3,cxb5,Bxb5+,Bd7,Rfd1,Bxb5,Rxd8+,Rxd8,Qxa7,Be7,Qa5,Bd7,Qxe5,f6,Qd5,Kf8,e5,Kg7,e6,Bc8,Qc6,Rd6,Qc7,Re8,a4,Bxe6,a5,Rd7,Qc6,Kf7,a6,Red8,h4,Rd1+,Rxd1,Rxd1+,Kh2,Bd6+,g3', 'Bd5,Qxd5+,Rxd5', 'https://lichess.org/training/ArkXq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ARL6M', 'Classical', 'jose_saez', 1678, 'Kingshowman', 1796, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,d6,Bxc6+,bxc6,O-O,Be7,Bg5,O-O,h3,h6,Bxf6,Bxf6,c4,c5,Nc3,Bb7,Qb3,Rb8,Qa4,a6,Nd5,Bxd5,exd5,Rxb2,Rab1,Rb6,Rxb6,cxb6,Qxa6,Qc7,a4,Rb8,Qb5,Ra8,Ra1', 'e4,Re1,exf3,Re8+,Rxe8', 'https://lichess.org/training/ARL6M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('arlC0', 'Rapid', 'Christian64', 1800, 'packerraider', 1743, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,h3,Bc5,O-O,d6,c3,Qe7,Re1,a6,a4,Be6,Bxe6,Qxe6,b4,Ba7,Nh4,Ne7,d4,exd4,cxd4,O-O,Nc3,Ng6,Nf5,Ne7,d5,Qe5,Nxe7+,Qxe7,e5,dxe5,Ne4,Nxe4,Rxe4,f5,Re2,Bd4,Rb1,b6', 'Qxd4,exd4,Rxe7', 'https://lichess.org/training/arlC0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aRLgJ', 'Rapid', 'SamGBr', 2195, 'CarpeDiem12358', 1891, 'e4,c5,Nf3,d6,Bb5+,Nc6,O-O,a6,Bxc6+,bxc6,e5,d5,h3,Bf5,Nc3,h6,d3,e6,b3,g5,Na4,g4,hxg4,Bxg4,Ba3,h5,Bxc5,Bxc5,Nxc5,h4,Qe2,h3,g3,Ne7,Kh2,Nf5,c3,Qa5,b4,Qa3,Rab1,Qxc3,Rb3,Bxf3,Qxf3,Qxe5,Rbb1,Ke7,Rfe1,Nd4,Qg4,Qf6,f4,Rag8,Qd1,Nf5,Rg1,Ne3,Qa4,Ng4+,Kh1,h2,Rg2,Ne3,Qxc6,Nxg2,Qc7+,Kf8', 'Nd7+,Kg7,Nxf6', 'https://lichess.org/training/aRLgJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aRmiS', 'Blitz', 'occPointer', 1603, 'Bauernbue', 1604, 'e4,Nc6,Nc3,e6,Bc4,Bb4,Nf3,Nge7,d4,d5,exd5,exd5,Bb3,O-O,O-O,Ng6,Bg5,Be7,Bxd5', 'Bxg5,Nxg5,Qxg5,Bxc6,bxc6', 'https://lichess.org/training/aRmiS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Arogo', 'Blitz', 'Arpon2800', 2105, 'mmdhpoor', 2098, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,d3,c5,a4,Nf6,O-O,Be7,a5,O-O,a6,d5,e5,Nd7,Bxd7,Qxd7,axb7,Bxb7,Qh5,a5,f4,f5,Nd2,a4,Nf3,Qe6,Ng5,Bxg5,fxg5,Qxe5,g6,hxg6,Qxg6,Rf6,Qg5,Bc6,Bf4,Qe2,Rae1,Qxc2,Re7,Rf7,Rxf7,Kxf7,Qxf5+,Kg8,Qe6+,Kh7,Qxc6,Rf8,Qxd5,Qxd3,Qh5+,Kg8,Qd5+,Kh7,Qf3,Qc2,Qh5+,Kg8,Qd5+,Kh7,Qh5+,Kg8,Qg5,d3,Be5', 'Rxf1+,Kxf1,Qe2+,Kg1,Qe1#', 'https://lichess.org/training/Arogo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ARpQc', 'Blitz', 'Apash_10', 2014, 'dizcosteve', 2178, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,c6,Bc4,Nf6,Bd2,Qb6,Nge2,Bf5,O-O,e6,Ng3,Bg6,Be3,Nbd7,Bb3,Qc7,f4,O-O-O,Qe2,h5,f5,exf5,Nxf5,Ng4,Bf4,Qb6,Na4,Qa5,Nd6+,Bxd6,Bxd6,Rde8,Qf3,Ndf6,Nc5,Qd2,Rad1,Qe3+,Kh1,Qxf3,Rxf3,Ne4,Nxe4,Bxe4,Rxf7,Rh6,Bf4', 'Nf2+,Kg1,Nxd1,Rc7+,Kd8', 'https://lichess.org/training/ARpQc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ARPsq', 'Blitz', 'Morad1982maleki', 1749, 'sasg', 2056, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nc6,Nc3,h6,Be3,Nf6,Bd3,Bb4,O-O,b6,h3,Bb7,a3,Be7,Re1,O-O,Ne5,Nxe5,dxe5,Nh7,Bd4,c5,Qh5,cxd4,Ne2,Bc5,Ng3,Ng5,Nf5,Ne4,Qg4,Qg5,Qf3,Rae8,h4,Qg6,Re2,Rxe5,Ng3,Rfe8,Rae1,Nd2,Rxd2,Rxe1+,Kh2,Qd6,Be2,Qe7,Nf5,Qxe2,Rxe2,R1xe2,Qg4,g6,Nxh6+,Kg7,Qf4,R8e7,Ng4,Rd7', 'Qh6+,Kg8,Nf6#', 'https://lichess.org/training/ARPsq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aRpx2', 'Rapid', 'lazzafesa', 1844, 'adrbo', 1921, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,cxd4,cxd4,Bb4+,Bd2,Nge7,Bxb4,Nxb4,Qa4+,Nbc6,Nc3,O-O,Bd3,h6,O-O,Bd7,Qb3,Qc7,Rac1,a6,h3,Rab8,Bb1,Nf5,Qc2,Qd8,g4,Nb4,Qb3,Nxd4,Nxd4,Nc6,Qc2,g6,Nxc6,Bxc6,Qd2,Qh4,Qe3,d4,Qxd4,Qxh3,f3,Rfd8,Qf2,Rd4,Qxd4,Bxf3,Rxf3,Qxf3,Be4', 'Qxg4+,Kf1,Qf4+,Ke2,Qxc1', 'https://lichess.org/training/aRpx2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('arQA9', 'Rapid', 'Grzybiarz85', 1907, 'camineroo', 1744, 'b3,c5,Bb2,d6,e3,e5,Nc3,Nc6,Bb5,Bd7,Qe2,a6,Bxc6,Bxc6,Nf3,h6,O-O-O,Nf6,d4,e4,Nd2,d5,dxc5,Bxc5,Ndxe4,Be7,Nxf6+,Bxf6,Nxd5', 'Bxb2+,Kxb2,Bxd5,e4,Qf6+', 'https://lichess.org/training/arQA9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ARqny', 'Blitz', 'CM rob188', 2571, 'FM MennyHobber', 2581, 'h4,d5,h5,h6,d4,Bf5,c4,e6,Nc3,c6,e3,Nf6,Bd3,Bxd3,Qxd3,Nbd7,Nf3,Bd6,e4,dxe4,Nxe4,Nxe4,Qxe4,Bb4+,Ke2,Be7,Qg4,Rg8,Bf4,Qb6,b3,Nf6,Qh3,O-O-O,Rhd1,Ne4,Kf1,f5,Ne5,Bf6,Qe3,Bxe5,Bxe5,g5,f3,Nd6,Kg1,f4,Qd3,Nf5,c5,Qb5,Qc4,Rd5,a4,Qa6,Re1,Ne3,Qc3,Rgd8,b4,Qc4', 'Rxe3,Qxc3,Rxc3', 'https://lichess.org/training/ARqny');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ARqOo', 'Blitz', 'Luke_Skyvodker', 1648, 'DrMaa', 1645, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,Nf3,Nbd7,e3,c5,cxd5,Nxd5,Bxe7,Nxe7,Bd3,cxd4,Nxd4,O-O,O-O,Nc5,Be2,a6,a3,b5,b4,Nd7,Ne4,Bb7,Nc5,Nxc5,bxc5,Nd5,Bf3,Rc8,Rc1,Qe7,c6,Ba8,Qd3,g6,Bxd5,exd5,Rc3,Rfe8,Rfc1,Qf6,c7,Qd6,Qc2,Re7,Nc6,Bxc6,Rxc6,Qxa3,Rb6,Rcxc7,Rc6,Rxc6,Qxc6,b4,h3,b3,Rb1,Qa2,Qc1,a5,Rb2,Qa3,Qc3,a4,Qc8+,Kg7,Qc3+,f6,Rd2,Rb7,Rxd5,b2,Qxa3,b1=Q+,Kh2,Qb3,Qc5,a3,Qd4,a2,Rd7+,Rxd7,Qxd7+,Kh6,Qe7,a1=Q,Qf8+,Kh5', 'g4+,Kg5,f4+,Kh4,Qh6#', 'https://lichess.org/training/ARqOo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('arr13', 'Classical', 'ecodad', 1770, 'RighteousBlunder', 1901, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,e5,d5,Bb5,Ne4,Bxc6+,bxc6,Nxd4,Bb7,e6,Bc5,exf7+,Kxf7,Qf3+,Kg8,Ne6,Qe7,Nxc5,Nxc5+,Be3,d4,O-O,dxe3,fxe3,Rf8,Qe2,Rxf1+,Qxf1,Qxe3+,Kh1,h6,Nc3,Kh7,Re1,Qg5,b4,Nd7,Qd3+,Qg6,Qxd7,c5,Nd5,cxb4,Rf1,Qxc2', 'Nf6+,Kg6,Qg4+', 'https://lichess.org/training/arr13');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('arRA5', 'Rapid', 'Haim_Shalev', 1788, 'zaharov63', 1885, 'e4,e5,Nf3,d6,Bc4,h6,Nc3,Nf6,d3,c5,Be3,Nc6,a3,Be7,Qd2,a6,O-O,b5,Bd5,Nxd5,Nxd5,Be6,Rfe1,Nd4,Bxd4,cxd4,c3,Bxd5,exd5,dxc3,bxc3,Rc8,d4,Bf6,dxe5,dxe5,Nxe5,O-O,d6,Rc5,Ng4,Bxc3,Qe3,Qxd6,Red1,Qc7,Rac1,a5,Rd3,b4,axb4,axb4,Qg3,Qxg3,hxg3,Re8,Ne3,Rcc8,Nd5,Be1', 'Rxc8,Rxc8,Ne7+,Kh7,Nxc8', 'https://lichess.org/training/arRA5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aRrBj', 'Rapid', 'EG2708', 1641, 'AllysonD', 1638, 'd4,d5,c4,Nf6,e3,Bf5,Nc3,e6,Qb3,b6,cxd5,exd5,Bb5+,c6,Be2,Bd6,Nf3,O-O,O-O,Qc7,h3,Ne4,Nxe4,dxe4,Nd2,Bh2+,Kh1,Bd6,Qc2,Re8,b3,Re6,Bb2,Rh6,f4,Bxh3,gxh3,Rxh3+,Kg2,Qd7,Nxe4,Rxe3,Nxd6,Qh3+,Kg1,Qg3+,Kh1,Qh4+,Kg2,Qg3+,Kh1,Re6,Ne4', 'Rh6+,Bh5,Rxh5+,Qh2,Rxh2#', 'https://lichess.org/training/aRrBj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aRrhY', 'Classical', 'biby', 1737, 'Ravimi', 1829, 'e4,e5,Nf3,d6,c4,Nf6,Nc3,Nc6,d4,Bg4,Be3,Bxf3,gxf3,exd4,Bxd4,Nxd4,Qxd4,Be7,O-O-O,O-O,Be2,Nh5,e5,Bg5+,Kb1,dxe5,Qxe5,Qe7,Qxe7,Bxe7,Nd5,Bd6,Rhg1,Nf4,Nxf4,Bxf4,Bd3,g6,h4,h5,Be4,Be5,Rd5,Bf6,Rxh5,Rfd8,Rc5,Bxh4,Rxc7,Bxf2,Rf1,Rd2,Kc1,Rad8,Bd5,Be3,Kb1,Bd4,Rxb7,Rd6,Re1,Rb6,Bxf7+,Kg7,Bd5+', 'Rxb7,Bxb7,Rxb2+,Kc1,Rxb7', 'https://lichess.org/training/aRrhY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('arruN', 'Blitz', 'chess_inside', 2354, 'krislevon', 2069, 'e4,d6,Nf3,g6,d4,Bg7,Be3,Nf6,Bd3,c5,d5,Ng4,c3,Nxe3,fxe3,O-O,O-O,Nd7,Qe2,Nf6,h3,e6,dxe6,Bxe6,Nbd2,Qe7,a4,Rad8,Qf2,h6,Rfd1,Rfe8,a5,Bd7,Nc4,Bc6,e5,dxe5,Ncxe5,Be4,Bb5,Rf8,Qe2,Nh5,Nd7,Rfe8,a6,bxa6,Rxa6,Bf5,Rxa7,Ng3,Qc4,Be4,Nd2,Bf5,Nf3,Qxe3+,Kh2,Ne4,Nf6+,Bxf6', 'Qxf7+,Kh8,Qh7#', 'https://lichess.org/training/arruN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aRs0L', 'Rapid', 'PedroHumberto', 1742, 'mrkschwarman', 1866, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,a6,O-O,Ba7,Bb3,O-O,h3,d5,exd5,Nxd5,Re1,Be6,Nxe5,Nxe5,Rxe5,Bxf2+,Kh1,Qd7,Qf3,Qd6,Rxd5,Bxd5,Bxd5,Rae8,Be4,Bg3,Na3,f5,Nc4', 'fxe4,Nxd6,exf3', 'https://lichess.org/training/aRs0L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aRsa1', 'Blitz', 'jerrydragon', 1995, 'DieterHaubold', 1945, 'f4,e5,fxe5,Bc5,Nf3,b6,d4,Bb7,dxc5,Bxf3,exf3,Qh4+,g3,Qb4+,c3,Qxc5,Qd4,Qe7,Bb5,c6,Bc4,c5,Qe4,Nc6,f4,Nh6,O-O,Ng4,h3,Nh6,g4,Qh4,Qf3,O-O,Be3,Kh8,Nd2,f5,Bf2,fxg4,Qxc6,Qxh3,Qg2,Qh5,Bg3,Nf5,Ne4,Ne3,Qh1,Qxh1+,Kxh1,Nxc4,Rf2,Ne3,Re1,Nf5,Rd2,Rad8,Bf2,h5,Bg1,h4,Rh2,Kg8,Nd6,Ng3+,Kg2,Rxf4,Rxh4,Rdf8,Kxg3,Rf3+,Kxg4,R8f4+,Kg5,Rf8,Rg4,Kh7,Be3,g6,Bf4,Kg7,Ne4', 'Rf5+,Kh4,Rh5#', 'https://lichess.org/training/aRsa1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aRSrT', 'Blitz', 'hellapatzer', 1930, 'PeterMoyo', 1904, 'd4,d5,Nf3,Nf6,Bg5,Ne4,Bf4,Nc6,e3,Bf5,Bd3,e6,c3,Bd6,Bxd6,Qxd6,O-O,h5,Nbd2,Nxd2,Bxf5,Nxf3+,Qxf3,exf5,Qxf5,Qe6,Qd3,g6,Rfe1,O-O-O,b4,f5,a4,Qe4,Qe2,Rhe8,a5,f4,b5,Nb8,b6,axb6,axb6,c6,Ra8,fxe3,f3,Qf4,Ra7,g5,Qa2,Rd7,Ra8,g4,g3,Qxf3', 'Rxb8+,Kxb8,Qa7+,Kc8,Qa8#', 'https://lichess.org/training/aRSrT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('artn7', 'Rapid', 'Andkit', 1704, 'arlogb', 1723, 'c4,e5,e3,Nc6,d4,Nf6,Nf3,Bb4+,Nbd2,exd4,exd4,O-O,a3,Re8+,Be2,Bd6,O-O,b6,b4,Bb7,c5,bxc5,bxc5,Bf4,g3,Bh6,Bd3,d5,Nh4,Ne4,Nf5,Nxd2,Nxh6+,gxh6,Bxd2,Nxd4,Bxh6,Qf6,Qg4+,Kh8,Bg5', 'Nf3+,Kh1,Nxg5', 'https://lichess.org/training/artn7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aRTsl', 'Blitz', 'LucioArese', 1579, 'Izyamen', 1622, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,Be3,e6,Be2,Nf6,O-O,Bd6,h3,Bh5,Nc3,O-O,Ng5,Bg6,h4,Nbd7,h5,Bf5,h6,gxh6,Nf3,h5,Qd2,Kh8,Nh4,Bg6,Bg5,Rg8,f4,Qe8,Qe3,Bxc2,Bd3,Ng4,Qg3,Bxd3,Qxd3,f6,Nb5,Bb8,Nf3,fxg5,Nxg5,Ndf6,Rae1,a6,Rxe6,Qxb5,Qf5,Rf8,Re7,Bd6', 'Rxh7+,Nxh7,Qxh7#', 'https://lichess.org/training/aRTsl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ARugT', 'Classical', 'aladsim', 1731, 'FedorS123', 1724, 'e4,c5,Nf3,Nc6,d4,b6,Bd3,Bb7,Nc3,cxd4,Nd5,e6,Nf4,Bd6,O-O,Ne5,Nxd4,Nf6,Re1,Nxd3,Qxd3,e5,Nf5,Bc5,Nd5,g6,Nxf6+,Qxf6,Ne3,O-O-O,Bd2,Qe6,c4,Bxe3,Bxe3,f5,Bg5,Rdf8,exf5,Rxf5,Bd2,Rhf8,Rf1,e4,Qe2,d5,Rac1,Kb8,cxd5,Qxd5,Bb4,R8f7,Rfd1,Qe6,Rd8+,Bc8,Qa6,Rc7,Bd6,Qxd6', 'Rxc8+,Rxc8,Qxc8#', 'https://lichess.org/training/ARugT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('arW0C', 'Classical', 'Nail_7', 1627, 'HighSilence', 1675, 'e4,e5,Nf3,Nf6,Nc3,d6,a3,g6,Bc4,Bg7,d3,O-O,O-O,Nbd7,Be3,c6,Ba2,Nb6,b3,d5,exd5,cxd5,d4,e4,Ne5,Qc7,Qd2,a6,Bh6,Bxh6,Qxh6,Qxc3,Qg5,Nbd7,Nxd7,Nxd7,Qxd5,Nf6,Qc5,Qxc5,dxc5,Bf5,b4,Rad8,h3,Rd2,g4,Be6,Bxe6,fxe6,c3,Rfd8,Rfe1,g5,Kg2,Rc2,Rac1,Rxc1,Rxc1,Rd3,a4,Nd5,c4,Nxb4,Rb1,a5,Re1,Rd4,f3,exf3+,Kxf3,Rf4+,Kg3,Kf7,Rd1,Ke7,Rd6,Rxc4,Rb6,Rc3+,Kg2,Rc2+,Kf3,Rc3+,Kg2,Rxc5,Rxb7+,Kf6,Kg3,h6,h4,e5,hxg5+,hxg5,Kf3,Rc3+,Ke4,Ra3,Rb6+,Ke7,Kxe5,Re3+,Kf5,Nd5,Ra6,Kf7,Ra7+,Ne7+,Kxg5,Re5+,Kf4,Ke6', 'Rxe7+,Kxe7,Kxe5', 'https://lichess.org/training/arW0C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ARwpH', 'Rapid', 'Ekoy', 1804, 'cloudwalker', 1724, 'd4,e6,e4,c5,Nf3,cxd4,Qxd4,h6,Bb5,Ne7,O-O,a6,Bd3,b5,Be3,Nbc6,Qc3,Qc7,Nbd2,Bb7,Nb3,Rc8,Nc5,Ng6,Nxb7,Qxb7,Qd2,Nce5,Nxe5,Nxe5,f4,Nxd3,cxd3,Bc5,d4,Be7,Rf3,Qxe4,Rg3,Rc2,Qd1,Rxb2,Rc1,O-O,f5,Qxf5,Bxh6,Bf6,Rc5,Qf2+,Kh1,Rxa2,Bxg7,Bxg7,Rxg7+,Kxg7', 'Qg4+,Kf6,Qg5#', 'https://lichess.org/training/ARwpH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aRx8c', 'Rapid', 'hipopotama123', 1666, 'AWelker', 1704, 'e4,e6,c4,c5,Nc3,Nc6,g3,d6,Bg2,Nf6,Nge2,Be7,O-O,e5,h3,Be6,d3,Qd7,Kh2,a6,f4,exf4,Nxf4,O-O,Nfd5,Nd4,Nb6,Qc7,Nxa8,Rxa8,Be3,Nc6,Nd5,Qd7,Nxe7+,Qxe7,Bg5,h6,Bxf6,gxf6,Qh5,Kh7,Rf2,Rg8,Raf1,Rg5,Qf3,Rg6,h4,Ne5,Qf4,Nxd3,Qd2,Nxf2,Rxf2,h5,e5,fxe5,Be4,f5,Bxf5,Bxf5,Rxf5,Qe6,Rxh5+,Kg7,Qe2,Qg4,Qxg4,Rxg4,b3,Kg6,Rh8,Kf6,Rb8,Rg7,Rd8,Ke6,Kh3,e4,Re8+,Kf5,h5,Rh7,Kh4,Rg7,h6,Rg4+,Kh3,Rg5,Rf8+,Ke5,Kg2,Rh5,Rh8,Kd4,h7,e3,Kf3,Kd3,Rd8,Rf5+,Kg2,Rf2+,Kh3,e2,h8=Q', 'e1=Q,Rxd6+,Kc2', 'https://lichess.org/training/aRx8c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('arxic', 'Blitz', 'gbsalvio', 2159, 'lawanberat', 2128, 'Nc3,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Bg5,Be7,Nf5,O-O,Nxe7+,Qxe7,Nd5,Qe5,Bxf6,gxf6,c3,d6,Nxc7,Rb8,e3,Bf5,Nd5,Kh8,Be2,Be4,Bf3,Rg8,O-O,f5,Nf4,Rg7,Qe2,Rbg8,Rad1,Nd8,Bxe4,fxe4,Rd5,Rxg2+,Kh1,Qg7,Rdd1,Ne6,Nh5', 'Rxh2+,Kxh2,Qg2#', 'https://lichess.org/training/arxic');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ArXpz', 'Classical', 'gino68', 1738, 'bezborodov1976', 1970, 'e4,e6,Nf3,d5,d3,dxe4,Ng5,exd3,Bxd3,Be7,Nf3,Nf6,Nc3,O-O,Bg5,Bb4,Qd2,c6,O-O-O,Nbd7,Bxf6,Nxf6', 'Bxh7+,Kxh7,Qxd8,Rxd8,Rxd8', 'https://lichess.org/training/ArXpz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ARXU2', 'Rapid', 'kostic123', 2136, 'BogomilTodorov', 2101, 'd4,Nf6,Bf4,g6,Nf3,Bg7,c3,O-O,Nbd2,d5,e3,Bg4,Qb3,b6,h3,Bxf3,Nxf3,c5,dxc5,bxc5,Rd1,Qb6,Be2,Qxb3,axb3,e6,Bd6,Rc8,O-O,Ne4,Bf4,Nc6,Ba6,e5,Bxc8,Rxc8,Bh2,Rd8,Ra1,Rb8,Ra3,f6,Rd1,Rd8,Ra6,Rd6,Nd2,Nxd2,Rxd2,Bf8,Bg3,Be7,f3,Bd8,b4,cxb4,cxb4,Bb6,Bf2,Nxb4,Ra4,a5,Kf1,Rc6,Ke2,Kf7,Ra1,Ke6,g4,Nc2,Rc1', 'Nd4+,exd4,Rxc1,dxe5,Bxf2', 'https://lichess.org/training/ARXU2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('arYYJ', 'Blitz', 'Qamarun', 2236, 'slavekkomarica', 2024, 'b3,e5,e3,d5,d4,exd4,exd4,Nf6,Qe2+,Qe7,c3,Nc6,Bf4,Be6,Nd2,Nh5,Be3,Nf6,h3,h6,Ngf3,g5,Ne5,Nxe5,dxe5,Nd7,h4,Bg7,Nf3,g4,Nd4,Nxe5,Nxe6,Qxe6,O-O-O,O-O-O,Kb1,Kb8,Bd4,Rhe8,Qc2,f5,Re1,f4,Bxe5,Bxe5,Bd3,Qd6,f3,gxf3,gxf3,Qc5,Bg6,Re7,Bd3,Bf6,Rxe7,Bxe7,Rf1,Bf6,Kb2,b5,a3,a5,Ka2,Qxc3,Qxc3,Bxc3,Bxb5,d4,Bd3,Re8,Be4,Rg8,b4,axb4,axb4,Rg2+,Kb3,Rb2+,Kc4,Rxb4+,Kc5,Rb2,Rg1,d3', 'Rg8+,Ka7,Ra8#', 'https://lichess.org/training/arYYJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('arYyY', 'Classical', 'rapriese', 1744, 'Loxton', 1655, 'd4,d5,Bf4,Nf6,Nf3,Nc6,e3,e6,Bd3,Bd6,Bg3,O-O,Nbd2,a6,c3,b5,Bh4,b4,c4,dxc4,Nxc4,a5,O-O,Ba6,Qa4,Bxc4,Bxc4,Ne7,Bxf6,gxf6,Qc2,f5,Qe2,Ng6,Bd3,Nh4,e4,Nxf3+,Qxf3,Kh8,exf5,Rg8,fxe6,fxe6,Qh3,Rg7,Rfe1,Qf6,Rxe6,Qxd4,Qf3,Rf8,Qe3,Qxb2,Re1,Rgf7,f3,Qc3,Re8', 'Bc5,Kf1,Bxe3', 'https://lichess.org/training/arYyY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ARZ2X', 'Bullet', 'GM RebeccaHarris', 2983, 'GM alireza2003', 3151, 'd4,Nf6,Nc3,d5,Bf4,a6,e3,e6,g4,Bd6,g5,Nfd7,Bxd6,cxd6,h4,b5,Bg2,b4,Na4,Bb7,Ne2,Bc6,b3,Bxa4,bxa4,Nc6,Nf4,Rc8,O-O,O-O,Nh5,Ne7,Qd3,Nf5,e4,Nxh4,Qg3,Nxg2,Kxg2,dxe4,Rh1,Qe7,Qh4,f5,Rh3,g6,Nf4,Qf7,Rd1,e5,dxe5,Nxe5,Nd5,Nf3', 'Nf6+,Kh8,Qxh7+,Qxh7,Rxh7#', 'https://lichess.org/training/ARZ2X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aRzmc', 'Blitz', 'xacatur', 2076, 'NIFTY50', 2307, 'd4,d5,c4,e6,Nc3,f5,g3,Nf6,Bg2,c6,b3,Bd6,Nh3,O-O,O-O,Ne4,Bb2,Nd7,Qc2,Qe7,f3,Nxc3,Bxc3,dxc4,bxc4,e5,e4,f4,gxf4,exd4,Bxd4,Bxf4,Nxf4,Rxf4,Qd2,Qf7,Be3,Rh4,c5,b6,cxb6,axb6,f4,Ba6,Rfd1,Nf6,Bxb6,Qg6,Bd8,Nxe4,Qe3,Rg4,Qf3,Nc3,Rd2,Nd5,Bg5,Qf5,h3,Rxf4,Bxf4,Nxf4,Qxc6,Rf8,Kh2,Bc8,Rf2,Qe5,Qe4,Qxa1,Rxf4,Rxf4', 'Qe8+,Rf8,Bd5+,Be6,Bxe6+,Kh8,Qxf8#', 'https://lichess.org/training/aRzmc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ARzVs', 'Blitz', 'Josivaldoalves', 1619, 'bantus100', 1619, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,Bg4,Be2,Nc6,O-O,e6,b3,Bd6,Bb2,Qh5,g3,f6,Re1,Bh3,Nd4,Qd5,Nf3,g5,Bf1,g4,Nh4,f5,Bxh8,O-O-O,Bc3,Rf8,Bc4,Qc5,Bxe6+,Kb8,Bc4,f4,Bf1,fxg3,hxg3,Bxg3,Bxh3', 'Qxf2+,Kh1,Qh2#', 'https://lichess.org/training/ARzVs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('As7rm', 'Rapid', 'faiz14', 2103, 'Murza1970', 2126, 'e4,e6,Nf3,b6,Nc3,Bb7,Bc4,h6,O-O,a5,a4,Nc6,d4,Bb4,Bd2,Bxc3,Bxc3,Nce7,d5,exd5,exd5,f6,Qe2,d6,Rfe1,Qd7,Nh4,O-O-O,b4,Bxd5,Bxd5,Nxd5,Qa6+,Kb8,Bd4,Nxb4,Qc4,Nc6,Rab1,Nxd4,Qxd4,Ka7,Rb5,Ka6,Reb1,Rb8,Qc4,Ka7,Qd5,Ne7', 'Rxa5+,bxa5,Qxa5#', 'https://lichess.org/training/As7rm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aS8CP', 'Rapid', 'Vijayratan', 1892, 'Tojlet', 1872, 'e4,e5,Bc4,Nf6,d3,Nc6,a3,Bc5,Be3,Bxe3,fxe3,d6,Nf3,Bg4,O-O,O-O,b4,a6,Qe1,b5,Ba2,Qd7,Qg3,Rac8,h3,Bxf3,Rxf3,a5,Rxf6,axb4,axb4,Nxb4,Bb3,c5,Nd2,Kh8,Rf2,f6,Qh4,Qb7,Rf5,h6,Raf1,d5,exd5,Nxd5,R5f3,Nc3,Kh1,Rcd8,Ne4,Nxe4,Qxe4,Qxe4,dxe4,c4,Ba2,Rd2,Bb1,Rfd8,R3f2', 'Rxf2,Rxf2,Rd1+,Kh2,Rxb1', 'https://lichess.org/training/aS8CP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('as8qq', 'Blitz', 'Moile', 1949, 'ohmybad', 2178, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Bc5,c3,Nxe4,d4,exd4,cxd4,Be7,d5,Nd6,Bd3,Nb4,Be2,O-O,a3,Na6,Re1,Bf6,Nbd2,b5,Rb1,Nc5,Nf1,a5,Ng3,a4,Qc2,Nb3,Bf4,Bb7,Bxd6,cxd6,Bxb5,Bxd5,Nd2,Qb6,Bf1,Rac8,Qd1,Nxd2,Qxd2,Bc4,Ne4,d5,Nc3,Bxf1,Nxd5,Qa6,Rxf1,Rc5,Nb4,Qc8,Rbd1,Rd8,Qd6,Qc7,Qxc7,Rxc7,Rfe1,Bxb2,Nd5,Rb7,Rb1,Rdb8,h3,Bxa3,Rxb7,Rxb7', 'Re8+,Bf8,Ne7+,Kh8,Rxf8#', 'https://lichess.org/training/as8qq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('As8XP', 'Rapid', 'lettlurt', 1985, 'tewarisachin', 1686, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qh5+,g6,Bxd5+,Ke8,Bxc6+,bxc6,Qe5+,Qe7,Bf4,Qxe5+,Bxe5,Rg8,Bxd4,Bf5,c3,Rb8,b3,a5,Nd2,c5,Be5,Bd6,Bxd6,cxd6,O-O,Kf7,Rfe1,Rge8,Nc4,Rxe1+,Rxe1,Rd8,Nxa5,d5,Nc6,Rd6,Ne7,Be6,Nxg6,Kxg6,f3,h5,Kf2,Kf5,g3,Bd7,f4,Re6,Rxe6,Bxe6,Ke3,Kg4,Kf2,Kh3,Kg1,d4,cxd4,cxd4,f5,Bxf5,b4,d3,Kf2,Kxh2,a4,h4,gxh4,Kh3,h5,Kh4,h6,Kg5,b5,Kf4', 'b6,d2,Ke2,d1=Q+,Kxd1', 'https://lichess.org/training/As8XP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aS9f2', 'Rapid', 'fatihmehmetkirik', 1968, 'AlexKataev', 1923, 'd4,f5,Nf3,Nf6,Bf4,e6,Nbd2,Bd6,Bxd6,cxd6,e3,O-O,Be2,Ne4,O-O,b6,c4,Bb7,a3,Nc6,d5,exd5,cxd5,Ne5,Nxe4,fxe4,Nxe5,dxe5,Qb3,d6,Bg4,Bc8,Bxc8,Rxc8,Qa4,Qh4,Qxa7,Rf3,Qxb6,Rcf8,g3,Qf6,Qb4,h5,Qxe4,g5,Rac1,g4,Rc2,h4,Qd3,Qh6,Qe4,Qh5,b4,hxg3,hxg3,R3f5,b5,Qh3,Qh1,Qxh1+,Kxh1,Rb8,a4,Rb7,Rc6,Rh7+,Kg2,Rfh5,Rg1,Ra7,Ra6,Rc7,b6,Rc2,b7,Rf5,b8=Q+,Kg7,Ra7+,Kg6,Qxd6+,Rf6,Qxe5', 'Rfxf2+,Kh1,Rh2#', 'https://lichess.org/training/aS9f2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AS9oN', 'Rapid', 'Cocorichess', 2112, 'rehimismayil', 1947, 'e4,b6,d4,Bb7,Bd3,Nf6,d5,e6,c4,exd5,exd5,Be7,Nf3,O-O,O-O,Na6,Nc3,Nc5,Bc2,Bd6,Bg5,c6,Nd4,cxd5,Nf5,Be7,cxd5,Nxd5,Qh5,Bxg5', 'Ne7+,Kh8,Qxh7#', 'https://lichess.org/training/AS9oN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('as9Re', 'Rapid', 'VrumVrum', 1854, 'Armen1983', 1833, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Bc4,Nf6,d3,h6,O-O,d6,h3,O-O,Be3,Nd4,Bxd4,exd4,Ne2,d5,exd5,Nxd5,Nexd4,Bxd4,Nxd4,Nf4,c3,Qg5,Qf3,Bxh3,Kh2', 'Bxg2,Qxf4,Qxf4+', 'https://lichess.org/training/as9Re');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aSa01', 'Rapid', 'Jagira3105', 1689, 'AFKGecko', 1686, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f4,O-O,Nf3,c5,d5,Nh5,Bd3,Bg4,O-O,Bd4+,Kh1,a6,a4,e6,h3,Ng3+,Kh2,Bxf3,Rxf3,Nh5,Ne2,Bh8,Rb1,a5,b3,Na6,Bb2,Bxb2,Rxb2,e5,fxe5,Qg5,exd6', 'Qe5+,Kg1,Qxb2', 'https://lichess.org/training/aSa01');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AScPf', 'Blitz', 'PescadorBobo', 1547, 'YouForkedUpBro', 1612, 'e4,Nc6,Nf3,e5,Bb5,a6,Ba4,b5,Bb3,Bc5,c3,Nf6,d3,O-O,O-O,d6,h3,Qe7,Re1,Be6,d4,exd4,cxd4,Bxb3,axb3,Bb4,Re2,Nxe4,Qd3,d5,Nc3,Qd6,Nxe4,dxe4,Qxe4,Rad8,Ng5,Qg6,d5,Qxe4,Rxe4,Rxd5,Rxa6,Bd6,Bf4,Bxf4,Rxf4,Nd4,Nf3,Ne2+,Kh2,Nxf4,Ra5,Rfd8,g3,Nd3,g4,Nxf2,Kg3,Rd2,b4,Rxb2,Ne5,Ne4+,Kf3,Nd2+,Kg3,Ne4+,Kh4,Nf6,Nc6,Rd6', 'Ra8+,Rd8,Rxd8+,Ne8,Rxe8#', 'https://lichess.org/training/AScPf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AsEc8', 'Rapid', 'jescalar1', 2159, 'latimbacerra', 1959, 'd4,Nf6,Bf4,g6,Nc3,Bg7,e4,d6,Qd2,c5,d5,O-O,Bh6,Ng4,Bxg7,Kxg7,h4,h5,f3,Ne5,O-O-O,Nbd7,g4,hxg4,fxg4,Nxg4,Bh3,Nde5,h5,Rh8,hxg6,Nxg6,Qg2,Ne3,Qg3,Nxd1,Nxd1,Bxh3,Rxh3,Rxh3,Nxh3,Qd7,Ne3,Rh8,Nf5+,Kf8,b3,b5,Nf4,Nxf4', 'Qg7+,Ke8,Qxh8#', 'https://lichess.org/training/AsEc8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aseR4', 'Rapid', 'svetlaya_svetlaya', 1625, 'metab', 1603, 'e4,d5,exd5,Qxd5,d4,Nc6,Nf3,Bg4,Be2,e6,c4,Qd8,O-O,Bd6,d5,Ne5', 'Nxe5,Bxe2,Qxe2', 'https://lichess.org/training/aseR4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aseTV', 'Blitz', 'Munkhzul186', 1812, 'ynjk', 1644, 'd4,d5,c4,dxc4,e3,Bf5,Bxc4,Nf6,Nf3,Nc6,O-O,e6,h3,Bd6,Ne5,h6,Nxc6,bxc6,Bd3,Bg6,Bxg6,fxg6,Qc2,O-O,Qxg6,Qe8,Qxe8,Raxe8,Re1,Rf7,e4,Bb4,Nc3,Ref8,e5,Nd5,Bd2,Rxf2,Nxd5,Bxd2,Ne7+,Kh8,Rf1', 'Rxf1+,Rxf1,Be3+,Kh2,Rxf1', 'https://lichess.org/training/aseTV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aSFuW', 'Rapid', 'Mouclovaine', 1855, 'I74-74_74_74', 1850, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Ne5,Bb3,Bc5,Nc3,d6,h3,a6,O-O,Nf6,a3,O-O,f4,Nc6,Be3,Re8,Nxc6', 'Bxe3+,Kh1,bxc6', 'https://lichess.org/training/aSFuW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AsGGp', 'Rapid', 'JanOrmel', 1654, 'minkfinsk', 1701, 'e4,d5,exd5,Nf6,d4,Nxd5,Nf3,Nc6,Bc4,Bf5,O-O,e6,Nc3,Nxc3,bxc3,Be7,Bb3,O-O,c4,Bf6,c3,Re8,Rb1,b6,d5,exd5,cxd5,Bxb1,Bd2,Be4,dxc6,Bxf3,gxf3,Qd5,Bxd5,Rad8,c4,Re5,Bf4,Rf5,Bxf7+,Kxf7,Qc1,Rd4,Bxc7,Rc5,Bg3,Rxc6,Qa3,a5,Qb3,Rdxc4,Rd1,Kg6,Qd3+,Kf7,Qd7+,Kg6,f4,Rc7,f5+,Kh5,Qe8+,g6,fxg6,hxg6,Qe2+,Kh6,Qd2+,Bg5,Qd5,Rc1,Rxc1,Rxc1+,Kg2,Rc5,Qf7,Bf6,Bf4+,Bg5,Bxg5+,Rxg5+,Kf1,b5,h4,Rf5,Qb3,b4,Qe3+,Kh5,Kg2,Kxh4,Qg3+,Kh5,Kh3,Kh6,Kh4', 'Rh5+,Kg4,Rg5+,Kf3,Rxg3+', 'https://lichess.org/training/AsGGp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('asicy', 'Rapid', 'elpacorepiola', 1601, 'Edson0', 1647, 'Nf3,Nf6,d4,e6,c4,b6,e3,Bb7,Bd2,d5,Be2,dxc4,Bxc4,Ba6,Bc3', 'Bxc4,Qa4+,b5', 'https://lichess.org/training/asicy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('asIHA', 'Rapid', 'igor102', 2119, 'biala', 2243, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Nc3,Nc6,Be3,Nf6,Nxc6,bxc6,e5,Ng8,Bd4,f6,f4,Nh6,g4,O-O,exf6,exf6,Be2,d5,Bc5,Re8,O-O,Rb8,Na4,Qa5,b3,f5,g5,Bxa1,Qxa1,Nf7,Rf2,Qd2,Bf1,Qe1,Qf6,Re6,Qd4,Ba6,c4,Qe4,cxd5,Qxd4,Bxd4,cxd5', 'Nc5,Bxf1,Nxe6', 'https://lichess.org/training/asIHA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AsjlE', 'Rapid', 'nagaraj1946', 1637, 'luis2015', 1698, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e5,Nb3,Be6,Nd5,h6,f3,Nxd5,exd5,Bf5,Bc4', 'Qh4+,Bf2,Qxc4', 'https://lichess.org/training/AsjlE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AsJnq', 'Rapid', 'locke_blackbow', 1602, 'Carlos-Henrique-Luz', 1714, 'c4,b6,d4,Bb7,Nc3,d6,e4,g6,Nf3,Nd7,Be2,Bg7,O-O,e5,d5,Ngf6,b4,a5,Ba3,axb4,Bxb4,Nc5,Bxc5,dxc5,Qb3,O-O,Nxe5,Nxe4,Nxe4,Bxe5,Rad1,f5,Nxc5,Bxh2+,Kxh2,Qd6+,Kg1,Qxc5,Rd3,Rfe8,Bf3,Ba6,Qd1,Qd6,Rd4,Bb7,Qb3,Ra3,Qb5,Qe7', 'd6,cxd6,Bxb7', 'https://lichess.org/training/AsJnq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AsKgJ', 'Rapid', 'verysloe', 1812, 'Joeysantoro', 1798, 'e4,c5,c3,e6,d4,d6,Nf3,Nc6,Bf4,Nf6,Bg5,Be7,Nbd2,h6,Bxf6,Bxf6,Bb5,cxd4,cxd4,Bd7,Nb3,a6,Bc4,b5,Be2,O-O,O-O,Rc8,Rc1,Re8,Re1,Qb6,Qd2,Rc7,Rc2,Bc8,Rec1,Bb7,d5,exd5,exd5,Rce7,dxc6', 'Rxe2,Qxe2,Rxe2,Rxe2,Bxc6', 'https://lichess.org/training/AsKgJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AsKLd', 'Rapid', 'capablancazz', 1854, 'allech', 1866, 'e4,e5,Nf3,Nc6,Bc4,Qf6,Nc3,Bc5,d3,h6,O-O,Nge7,Nb5,Bb6,Kh1,g5,Be3,a6,Nc3,g4,Nd2,d6,Bxb6,cxb6,Bd5,Bd7,Nc4,Nc8,Na4,b5,Nab6,Nxb6,Nxb6,Rb8,Nxd7,Kxd7,Qxg4+,Kc7,f4,Rbg8,fxe5', 'Qxf1+,Rxf1,Rxg4', 'https://lichess.org/training/AsKLd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ASKPi', 'Blitz', 'moolla', 1782, 'Kazarik', 1803, 'd4,d5,Bf4,Nc6,Nf3,Nf6,e3,Nh5,Bg3,Nxg3,hxg3,h6,c4,e6,Nc3,Bb4,cxd5,Bxc3+,bxc3,exd5,c4,dxc4,Bxc4,O-O,Rc1,Bg4,Qc2,Ne7,Ne5,Bf5,e4,Bh7,d5,Re8,Kf1,Nxd5,Bxd5,Rxe5,Qxc7,Qxc7,Rxc7,Bxe4,Bxf7+,Kh8,Rh4,Rd8,Rc1,Bd3+,Kg1,Rd7,Bb3,Re2,f3,Bb5,Rc8+,Kh7,Rb4,Re1+,Kh2,Bc6,Bc2+,g6,Rg4,Rg7', 'Bxg6+,Rxg6,Rc7+,Kh8,Rxg6', 'https://lichess.org/training/ASKPi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aSktQ', 'Classical', 'Kozawa', 1880, 'VelyamA', 1930, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Nd5,Nxd5,exd5,Qa5+,Bd2,Qb6,dxc6,bxc6,Be3,Qa5+,Nc3,d5,Qf3,Bb4,Bd2,O-O,Nb1,Bxd2+,Nxd2,Rb8,b3,Be6,Qg3,e4,Be2,d4,Bg4,Bxg4,Qxg4,Qc3,Rd1,e3,fxe3,dxe3,O-O,exd2,Qe2,Qxc2,Rxd2,Qc5+,Kh1,Qb5,Qf3,a5,Rd7,Rb7', 'Qxf7+,Rxf7,Rd8+,Rf8,Rdxf8#', 'https://lichess.org/training/aSktQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AsLIX', 'Blitz', 'IM Nozdrachev_Vladislav', 2714, 'The_ChessTeacher', 2581, 'e4,e6,d4,d5,e5,Qd7,Nd2,b6,Ndf3,a5,Ne2,Ba6,Nf4,Bxf1,Kxf1,Ne7,g3,Na6,Kg2,c5,c3,Nc6,Be3,b5,h4,h6,a4,b4,Qe2,c4,h5,Be7,Nh2,b3,Ng4,O-O-O,Bd2,Kb7,Ne3,Na7,Qg4,Rhg8,Qf3,Qc6,g4,Nc8,Ne2,Rdf8,Qg3,Nb6,f4,Nxa4,Rhb1,Qb5,f5,Bg5,Nf4,Bxf4,Qxf4,Nc7,f6,gxf6,exf6,Rh8,Nf1,Nb6,Nh2,Nc8,Qe5,Qb6,Bf4,Rd8,Qxc7+,Qxc7,Bxc7,Kxc7,Rxa5,Kb7,Nf3,Nd6,Rba1,Ne4,Ra7+,Kb6,R1a6+,Kb5,Ne5,Nxc3,bxc3,b2,Ra2,b1=Q', 'Rb7#', 'https://lichess.org/training/AsLIX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aSmfG', 'Rapid', 'Mart1n111', 1696, 'Edelweiss17osn', 1622, 'c4,e5,Nc3,Bb4,g3,Bxc3,dxc3,d6,Bg2,c6,Nf3,Nf6,O-O,h6,Re1,O-O,h3,Be6,e4,c5,Be3,b6,Nd2,Qc7,f4,Nc6,f5,Bd7,g4,Rfd8,Nf3,g5,Kf2,Kg7,Rh1,Rh8,Qd2,Rad8,Rad1,Bc8,b3,Ba6,h4', 'Nxe4+,Kg1,Nxd2', 'https://lichess.org/training/aSmfG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ASn71', 'Rapid', 'ElSupremo04', 2071, 'Navian_King01', 2091, 'e4,e5,Bc4,Nc6,Nf3,Be7,d4,exd4,Nxd4,Ne5,Bb3,d6,O-O,Nf6,f4,Ng6,Nc3,O-O,h3,c6,Qe2,Re8,e5,Bf8,e6,fxe6,Nxe6,Bxe6,Bxe6+,Kh8,f5,Ne5,Bg5,Rb8,Rad1,Qb6+,Kh2,Rbd8,b3,d5,Qxe5', 'Bd6,Qxd6,Rxd6', 'https://lichess.org/training/ASn71');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AsnMs', 'Rapid', 'Ewizzle', 2259, 'Furzmeister', 2398, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bg6,f4,e6,Be3,Nd7,Nc3,a6,Qd2,Ne7,g4,Bxd3,Qxd3,h5,f5,hxg4,fxe6,fxe6,Nge2,Nf5,O-O-O,Qb6,Nf4,Nxe5,Qe2,Nc4,Na4,Qb4,Nxe6,Nfxe3,Rd3,Qxa4,Rxe3,Nxe3,Qxe3,Kd7,Rf1,Re8,Rf7+,Kc8,Qe5,Rxe6', 'Qc7#', 'https://lichess.org/training/AsnMs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('asOAj', 'Classical', 'LeChuck7', 1668, 'NataliyaM2016', 1665, 'Nf3,e6,e4,d5,e5,c5,c3,Ne7,d4,Nf5,Bb5+,Bd7,a4,a6,Bxd7+,Nxd7,a5,h6,O-O,cxd4,cxd4,Bb4,Bd2,Bxd2,Nbxd2,O-O,Qb3,Rb8,Rfc1,Re8,Rc3,b5,axb6,Rxb6,Qa4,g5,Rc6,Rxb2,Rxa6,Nb6,Qc6,Ne7,Qc3,Rb5,Nb3,Nc4,Nc5,Nc8,Ra8,Kf8,g4,Qc7,Nd2,Rxc5,dxc5,Qxc5,Nb3,Qc7,Qb4+,Kg7,Qc5,Qb7,Nd4,Nxe5,Kg2,Nxg4,Kg3,Nf6,Qb5,Ne4+,Kf3,Qxb5,Nxb5,Kf8,Rc1,Nd2+,Ke2,Nc4,Nc7,Rd8,Rb1,d4,Rbb8,d3+,Kd1,N4d6,Nb5,Ke7', 'Nxd6,Rxd6,Rxc8', 'https://lichess.org/training/asOAj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aSpne', 'Rapid', 'MichaelTMG', 1707, 'AlexAng', 1685, 'e4,c6,d4,d5,e5,Bf5,Ne2,e6,Ng3,Bg6,Nd2,c5,c3,cxd4,cxd4,Nc6,Nf3,a6,a3,Rc8,Be2,Nge7,O-O,Nf5,Bg5,Be7,Bf4,O-O,Rc1,Qb6,Be3,Nxe3,fxe3,Be4,b4,Bxf3,Bxf3,a5,Rb1,axb4,Qd3,Na5,axb4,Bxb4,Rb2,Rc3', 'Qxc3,Bxc3,Rxb6', 'https://lichess.org/training/aSpne');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aSQRx', 'Classical', 'alaearrabbat', 2087, 'suma046', 2065, 'e4,d6,d4,Nf6,Bd3,Nc6,Be3,Ng4,h3,Nxe3,fxe3,g6,Nf3,Bh6,Qe2,f5,exf5,gxf5,Nc3,e5,dxe5,dxe5,e4,f4,O-O-O,Nd4,Nxd4', 'f3+,Kb1,fxe2', 'https://lichess.org/training/aSQRx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('asqzZ', 'Blitz', 'FM CACHS', 2511, 'Egor_Kharitonov', 2515, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Be3,Ng4,Qd2,Nxe3,Qxe3,Qb6,Ncb5,Nxd4,Qxd4,Qxd4,Nxd4,a6,Bc4,g6,O-O-O,Bg7,c3,Bd7,f3,O-O-O,Bxf7,Kc7,Ne6+,Bxe6,Bxe6,Rhf8,Kc2,Be5,Rd3,Rf6,Bb3,Rdf8,Kd2,g5,Ke2,Rh6,h3,Bg3,Rc1,b6,Bc4,a5,b4,Ra8,Bb3,Ra7,a4,Rf6,b5,Rf8,Rd5,Be5,c4,Rc8,c5,bxc5,Rcxc5+,dxc5,Rxe5,Kd8,Be6,Rcc7,Rxg5,Rcb7,Rxc5,Rb8,Rd5+,Ke8,Rg5,Kd8,Kd3,Kc7,Bd5,Kd6,Rg7,Rd7,Kd4', 'e5+,Ke3,Rxg7', 'https://lichess.org/training/asqzZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('asSDH', 'Rapid', 'CAPADOCIA', 1829, 'AysunX', 1754, 'd4,e6,Bf4,h6,Nf3,b6,e3,Bb7,Bd3,Be7,O-O,Bf6,h3,Ne7,c3,Bxf3,Qxf3,d5,Nd2,c6,e4,dxe4,Nxe4,Nd5,Nxf6+,Nxf6,Qg3,Nh5,Qg4,Nxf4,Qxf4,Nd7,Qg4,O-O,f4,Nf6,Qf3,Qd5,f5,Qxf3,Rxf3,exf5,Rxf5,Rfd8,Re1,Rac8,Re7,Rd7,Rfe5,Rcd8,Bf5,Rxe7,Rxe7,Ra8,Be4,Nxe4,Rxe4,Kf8,Kf2,Rd8,Ke3,Rd6,c4,a5,g4,g5,Kd3,Kg7,Kc3,Kf6,b4,axb4+,Kxb4,Kg6,a4,f5,gxf5+,Kxf5,Rg4,h5,Rg1,Rxd4,Kc3,Rf4,Rb1,b5,axb5,cxb5,cxb5,Rf3+,Kc4,Rxh3', 'b6,Re3,b7', 'https://lichess.org/training/asSDH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ASSqd', 'Rapid', 'hashTAGfreeKappa', 1709, 'seyedsajadi', 1701, 'e4,e6,Nf3,b6,Bd3,Bb7,c3,Nf6,e5,Nd5,Bc2,d6,exd6,cxd6,O-O,Be7,d4,O-O,Na3,a6,Nc4,b5,Ne3,Nxe3,Bxe3,Bf6,Qd3,g6,Bh6,Re8,Nd2,Bg5,Bxg5,Qxg5,Nf3,Bxf3,Qxf3,Nd7,Qc6,Qe7,a4,Rec8,Qe4,d5,Qe2,Rcb8,axb5,Rxb5,Bd3,Rb6,Rfb1,a5,b3,Rbb8,c4,dxc4,bxc4,Nf6,h3,Qd8,Qe3,Rxb1+,Rxb1,a4,Ra1,a3,Bb1,Qc8,Qc3,Qd8,Rxa3,Rxa3,Qxa3,Qxd4,Qb4,Qd1+,Kh2,Qd4,Qb5,Qxf2,c5,Nd5,c6,Qf4+,Kh1,g5,Ba2,Nc7,Qb8+,Kg7,Qb1,h5,Qc2,f5,Qc3+,Kg6,Qf3,Qd6,Qc3,Qf4,Qf3,Qc1+,Kh2,g4,Qe2,Qf4+,Kh1,g3,Bxe6', 'Qc1+,Qf1,Qxf1#', 'https://lichess.org/training/ASSqd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aSsqE', 'Blitz', 'IM Aronian1111', 2412, 'bassamalmasry88', 1986, 'Nf3,b6,g3,Bb7,Bg2,g6,O-O,Bg7,d4,d6,c4,Nf6,Nc3,O-O,Qd3,Nbd7,e4,e5,d5,Nc5,Qc2,a5,b3,h6,a3,Kh7,Rb1,Bc8,b4,Nb7,Na4,axb4,axb4,Bd7,Nc3,Qc8,Bd2,Bh3,Ra1,Rxa1,Rxa1,Nh5,Ra7,Bxg2,Kxg2,Nd8,Nb5,Nb7,Qd3,Qb8,Be3,Nf6,Nd2,Ng4,Nb3,Nxe3+,Qxe3,f5,exf5,gxf5,c5,bxc5,bxc5,Nxc5,Nxc5,Qxb5,Rxc7,Qa5,Rxg7+,Kxg7,Ne6+,Kf7,Qf3,Ra8,Qxf5+,Ke7,Qh7+,Ke8,Nc7+,Kd8,Nxa8,Qxd5+,f3,Qd2+,Kh3,Qa2,Nb6,Qe6+,g4,d5,Qb7,d4,Qd5+,Ke7,Qb7+,Kf6,Nd5+,Kg6,Ne7+,Kf6,Nf5,Kg5,Qg7+,Kf4,Qxh6+', 'Qxh6+,Nxh6,d3', 'https://lichess.org/training/aSsqE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AsssE', 'Classical', 'keyvan_k99k', 1867, 'Lordofchess13', 1824, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Bc4,Bd6,Nf3,O-O,O-O,Bg4,h3,Bh5,Re1,Nd7,g4,Bg6,Nh4,Qc7,Nxg6,hxg6,Kg2,Rfe8,Rxe8+,Rxe8,Qd3,Kf8,Bd2,Nb6,Bb3,Nd7,Qc4,Re7,Re1,Nb6,Qd3,Rxe1,Bxe1,Qe7,Bd2,Qd7,c4,a6,Qf3,Bc7,Bb4+,Kg8,c5,Nd5,Bd2,a5,a4,Bb8,Bxa5,Nf4+,Kf1,Qxd4,Qe3,Qxb2,Qe8+,Kh7,Qxb8,Qe2+,Kg1,Nxh3+,Kg2,Qxg4+,Qg3,Nf4+,Kh2', 'Qh5+,Kg1,Ne2+', 'https://lichess.org/training/AsssE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ASTUv', 'Blitz', 'Ednailton', 1862, 'CadillacRecords', 1896, 'd4,d5,Nf3,e6,e3,Nf6,Nbd2,Bb4,Bd3,c5,a3,Ba5,dxc5,b6,b4,bxc5,bxa5,Qxa5,O-O,Nc6,Nb3,Qc7,Nxc5,O-O,Bb2,Re8,c3,e5,Be2,e4,Nd4,Ne5,Ncb3,Neg4,g3,h5,Nb5,Qe5,Qc2,h4,c4,Qh5,h3,hxg3,Kg2,Nxe3+,fxe3', 'Qxh3+,Kg1,Qh2#', 'https://lichess.org/training/ASTUv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ASVUK', 'Rapid', 'AlexLyndin', 1979, 'Max_Odessa', 1808, 'e4,f5,exf5,Nf6,d4,d5,Nf3,Bxf5,c4,e6,Nc3,Bb4,Bd2,Bxc3,Bxc3,Ne4,Be2,Nxc3,bxc3,Nc6,cxd5,exd5,O-O,Qd7,Bb5,O-O-O,Ne5,Qe6,Nxc6,bxc6,Ba6+,Kd7,Re1,Qg6,Re3,h5,Qe2,Rhe8,Re1,Rxe3,Qxe3,Re8', 'Bc8+,Kxc8,Qxe8+,Qxe8,Rxe8+', 'https://lichess.org/training/ASVUK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aSXGF', 'Rapid', 'ChezzRookie', 1842, 'sambar10', 1740, 'e4,c5,c4,d6,d4,Nc6,d5,Ne5,f4,Bg4,Nf3,Nxf3+,gxf3,Bh5,Qa4+,Qd7,Qxd7+,Kxd7,Be2,Nf6,Nc3,a6,e5,Ne8,a3,e6,dxe6+,fxe6,b4,b6,Bb2,Nc7,Ne4,d5,cxd5,exd5,Ng5,Ne6,Nxe6,Kxe6,bxc5,bxc5,Kf2,d4,Bc4+,Kf5,Kg3,h6,Bd5,Rb8,Be4+,Ke6,Rab1,Be7,Ba1,g5,fxg5,hxg5,Rhe1,Kxe5,Bb7+,Kf6', 'Rb6+,Bd6+,Rxd6+', 'https://lichess.org/training/aSXGF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aSyBZ', 'Rapid', 'Cardmagician', 1980, 'Aliyaz51', 1958, 'e4,e5,Nf3,d6,Bc4,Be7,h3,Nf6,d3,O-O,Be3,c5,c3,Nc6,O-O,a6,a4,Be6,Bxe6,fxe6,Qb3,Qd7,Na3,Na5,Qc2,h6,b4,cxb4,cxb4,Rfc8,Qb2,Nc6,Nc4,d5,Nb6,Qd6,Bc5,Qc7,Nxa8,Rxa8,Bxe7,Qxe7,b5,axb5,axb5,Rxa1,Rxa1,Nd4,Nxd4,exd4,Qxd4,dxe4,dxe4,e5,Qc4+,Kh7,Rd1,Nh5,b6,Nf4,Qc7,Qg5,g3,Nxh3+,Kg2,Nf4+,Kf3', 'Qh5+,g4,Qh3#', 'https://lichess.org/training/aSyBZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AtabF', 'Rapid', 'Adam_Vegh', 1727, 'Si73', 1687, 'd4,d5,Bg5,g6,Nf3,Bg7,Nc3,c6,e4,Nf6,e5,Nh5,g4,Bxg4,Be2,h6,Be3,Bxf3,Bxf3,Na6,a3,Qd7,Rg1,Rg8,Bxh5,gxh5,Bxh6,Kf8,Be3,f6,Qf3,Qe6,O-O-O,c5,dxc5,Qxe5,Rxd5,Qe6,Rxh5,Nxc5,Bxc5,Bh6+,Rxh6,Rxg1+,Nd1,Kg7,Rh4,Rd8,Rd4,Rxd4,Bxd4,Qa2,Be3,Qa1+,Kd2,Qa2,Bd4,Qc4,Qd3,Qe6,Be3,Qg4,Nc3,a6,Qd8,Qe6,Qc7,b5,Qc5,b4,Qxb4,Qd7+,Qd4,Qe6,h4,Rg4,Qd3,Rxh4,Qe2,Qd6+,Qd3,Qe6,b3,Rh5,Kc1,Rh1+,Kb2,Rh5,Ne2,Rd5,Qc3,Rd6,Nf4,Qf5,Nd3,Qe6,Ka2,Qd5,Kb2,a5,a4,Rc6,Qd2,Qd6,Bf4,Qe6,Be3,Rd6,Qe2,Qf5,Nc5,Qe5+,Kb1,Rc6,Nd3,Qd6,Qg4+,Kf7,Qh5+,Ke6,Qh3+,Kf7,Qh7+,Ke6,Nf4+,Kd7,Nd3,Qc7,Qf5+,Ke8,c4,Qb7,Ka2,Qc7,Bf4,Qb6,Qd5,Qb7,Qg8+,Kd7,Qd5+,Ke8,Nc5,Qc8,Ne4,Ra6,Ng3,Rc6,Nh5,Qg4,Qxc6+,Kf7,Qh1,Qe2+,Kb1,Qd3+,Kc1,Qc3+,Kd1,Qxb3+,Ke2,Qxc4+,Kd2,Qa2+,Kc3,Qa3+,Kd4,Qxa4+,Kd3,Qb3+,Kd4,Qb4+,Ke3,a4,Kf3', 'Qb7+,Ke3,Qxh1', 'https://lichess.org/training/AtabF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ATABo', 'Blitz', 'Ichspieldochbur', 1779, 'AbhijeetGore', 1819, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,f3,Nc6,c4,e5,Nc2,Be7,Nc3,O-O,Be2,a6,O-O,Re8,Be3,b6,Qd2,Rb8,Rfd1,Qc7,b3,Rd8,Rac1,Be6,Nd5,Bxd5,cxd5,Na7,Nb4,Qd7,Nxa6,Rbc8,Bxb6,Rxc1,Rxc1,Rc8,Rxc8+,Qxc8,Nb4,Qb7,Bxa7,Qxa7+,Kf1,Qa5,Ke1,Bd8,Nc6,Qc7,Nxd8,Qxd8,Qc3,g6,a4,Kg7,b4,Nd7,a5,Qb8,b5,Nc5,a6,Qb6,Kd2,g5,Kc2,h6,Kb1,Nxa6,Ka2,Nc5,Ka3', 'Qa7+,Kb2,Na4+,Kb3,Nxc3', 'https://lichess.org/training/ATABo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aTAc9', 'Rapid', 'asrir', 1605, 'iv8n', 1651, 'f4,b6,d3,Bb7,e4,g6,Nf3,Bg7,Be2,d6,O-O,Nf6,c3,Nbd7,b4,a6,Qc2,e6,Be3,Ng4,Bd2,Bh6,Ng5,Ngf6,f5,exf5,exf5,Qe7,fxg6,hxg6,Bf3,Bxf3,Rxf3,Qe5', 'Re3,Qxe3+,Bxe3', 'https://lichess.org/training/aTAc9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aTANt', 'Classical', 'bdb88', 1663, 'AUMSKT', 1655, 'e4,g6,d4,Bg7,Nf3,e6,Bc4,d6,O-O,Ne7,d5,O-O,Re1,exd5,exd5,a6,Nc3,b5,Bd3,Bb7,Be4,Nd7,a4,b4,Na2,a5,c4,bxc3,Nxc3,Nc5,Bg5,f6,Be3,Nxe4,Nxe4,Bxd5,Qc2,Bxe4,Qxe4,f5,Qh4,Bxb2,Ng5,h5,Ne6,Qd7,Nxf8,Rxf8,Qc4+,d5,Qb5,Qxb5,axb5,Bxa1,Rxa1,Rb8,Rxa5,Nc8,Bf4,Nd6,b6,Rxb6,Ra8+,Kf7,h4,c5,Ra7+,Ke6,Rg7,Kf6,Rc7,c4', 'Bg5+,Ke5,Re7+,Kd4,Be3+,Kd3,Bxb6', 'https://lichess.org/training/aTANt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AtAxj', 'Rapid', 'JuhaszIstvan', 2010, 'Tsybulya7', 1997, 'e4,e5,Nf3,d6,d4,Nd7,dxe5,dxe5,c4,Bc5,Nc3,Ngf6,Be2,O-O,O-O,c6,Bg5,h6,Bh4,Qc7,a3,a5,Na4,Ba7,b4,Nh5,Be7,Re8,Bd6,Qd8,c5,Nf4,Bc4,Qf6,Nc3,Qg6,Nh4,Qg5,g3,b5,Bb3,a4,Ba2,Nf8,Nf5,Bxf5,exf5,Nh3+,Kg2,Qxf5,Qe2,Ne6,Qxe5', 'Nef4+,Qxf4,Nxf4+', 'https://lichess.org/training/AtAxj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('atb8N', 'Rapid', 'Falcon-am', 1881, 'Bra_Bro_Bret_Brut', 1901, 'd4,Nf6,e3,e6,Nf3,c5,c3,cxd4,exd4,d5,Bd3,Be7,O-O,O-O,Qc2,b6,Nbd2,Ba6,Bxa6,Nxa6,Ne5,Rc8,a3,Nc7,b4,Nb5,Bb2,Nxd4,Qd1,Nc6,Ndf3,Nxe5,Nxe5,Bd6,f4,Bxe5,fxe5,Ne4,Qd3,Qg5,Qd4,Rc4,Qd1,Qe3+,Kh1,Nf2+,Rxf2,Qxf2,Rb1,d4,Qd3,Rfc8,cxd4,Rc1+,Rxc1', 'Rxc1+,Bxc1,Qe1+,Qf1,Qxf1#', 'https://lichess.org/training/atb8N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aTcwK', 'Rapid', 'RateZero', 1881, 'Stasello', 1722, 'e4,g6,d4,Bg7,e5,c5,c3,e6,Nf3,cxd4,cxd4,h6,Bc4,Ne7,O-O,O-O,Be3,d6,Qd2,Kh7,Nc3,d5,Bd3,a6,Ne2,Nbc6,Ng3,Nf5,Bf4,Ncxd4,Nxd4,Nxg3,fxg3,f6,exf6,Bxf6,Ne2,e5,Bxh6,Bg7,Bxg7,Qb6+,Kh1,Rxf1+,Rxf1,Kxg7,Qc3,Qd6,Bc2,Be6,Qf3,Bf5,Bxf5,e4,Bxe4,dxe4,Qf7+,Kh6,Qf4+,Qxf4,gxf4,Rf8,g3,g5,f5,Rf6,g4,Rd6,Nc3,e3,Rd1', 'Rxd1+,Nxd1,e2', 'https://lichess.org/training/aTcwK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('atd0c', 'Blitz', 'vladwow6', 1816, 'AjedrezForLive', 1767, 'e4,e6,d4,d5,e5,c5,Nf3,Nc6,c3,Qb6,Bd3,cxd4,O-O,dxc3,Nxc3,Bd7,Be3,Qc7,Bc2,a6,Bf4,Be7,a3,Nh6,Bxh6,gxh6,Re1,Rg8,Qd2,Bg5,Nxg5,hxg5,Bxh7,Rg7,Bc2,Nxe5,Qe2,Nc4,Nxd5,Qc6,Be4,Qc5,Nf6+,Kd8,Bxb7,Rb8,Bxa6,Rxb2,Qxc4', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/atd0c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aTfO5', 'Rapid', 'arach915', 1629, 'Ben_landik', 1674, 'e4,e5,f4,exf4,Nf3,g5,Bc4,d6,O-O,h6,d4,Nf6,Qe2,Bg7,e5,dxe5,Qxe5+,Qe7,Qxe7+,Kxe7,b3,Be6,Ba3+,Kd7,Bb5+,c6,Bd3,Nd5,Nbd2,Ne3,Rfc1,Na6,Nc4,Nd5,Nfe5+,Bxe5,dxe5,Nac7,Rd1,Ne3,Nxe3,fxe3,Re1,Nd5,c4,Nf4,Rxe3,g4,Rd1,Rad8,Bf5+,Kc8,Bxe6+,Nxe6,Rxd8+,Rxd8,Bd6,f5,exf6,Rxd6,f7,Kd7', 'Rxe6,Rxe6,f8=Q', 'https://lichess.org/training/aTfO5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aTg3l', 'Rapid', 'Gluybi', 1821, 'barsic342', 1817, 'd4,d5,Nf3,Nf6,e3,c5,b3,e6,Bd3,h6,Bb2,Be7,dxc5,Bxc5,O-O,O-O,Nbd2,Nc6,a3,Bd6,e4,dxe4,Nxe4,Nxe4,Bxe4,Ne7,Qd4,f6,Rad1,Bc7,Qc3,Nd5,Bxd5,exd5,Rd2,Be6,Rfd1,Rc8,Qd3,Qd6,g3,Rfd8,Nd4,Bf7,Nf5,Qd7,Ne3,Qc6,Qf5,Be6,Qf3,Bb6,c3,d4,Qxc6,Rxc6,cxd4,Bxb3,Re1,Rcd6,Rd3,Ba4,Nc4,Rc6,Nxb6,Rxb6,Re2', 'Bb5,Rde3,Bxe2', 'https://lichess.org/training/aTg3l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('atGdW', 'Rapid', 'MANBECK', 1778, 'SebastianBrankovic', 1605, 'e4,e6,d4,d5,exd5,exd5,Qe2+,Be7,Be3,Nf6,Bg5,O-O,c3,Ne4,Bxe7,Qxe7,Nd2,Qf6,f3,Nxd2,Qxd2,Bf5,Bd3,Re8+,Ne2,Bxd3,Qxd3,Qh4+,g3,Qh6,f4,Nd7,O-O-O,Nf6,Qb5,Ne4,Rdf1,c6,Qxb7,Rec8,a3,Rcb8,Qe7,a5,Kc2,Qg6,f5,Qg4,Nf4,Re8,Qh4,Qxf5,Nd3,Qg6,Rf4,Nd6,Kc1,Nc4,Rd1,Rab8,Rf2,Ne3,Rdd2,a4,Rde2,Nc4,Qf4,Rxe2', 'Qxb8+,Re8,Qxe8#', 'https://lichess.org/training/atGdW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AthRD', 'Blitz', 'T-MacforMVP', 1744, 'roadrunner0900', 1744, 'e4,e5,Nc3,Nc6,f4,exf4,Nf3,d6,d4,g5,Bc4,Bg7,O-O,h6,Ne2,Nge7,c3,O-O,g3,fxg3,Nxg3,Na5,Bd3,Bg4,Kg2,Ng6,h3,Nh4+,Kh2,Bxf3,Rxf3,Nxf3+,Qxf3,Qf6,Nf5,Nc6,Be3,Ne7,Nxe7+,Qxe7,Rf1,Rae8,Qf5,Qe6,Qb5,b6,Qa6,f5', 'Bc4,d5,Bxd5,Qxd5,exd5', 'https://lichess.org/training/AthRD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ativp', 'Rapid', 'm185', 1736, 'CarlosHenrique99', 1753, 'd4,d5,Nc3,e6,Bf4,Bd6,Bd2,Nf6,Nf3,O-O,g3,Re8,Bg2,Nc6,e3,Bb4,O-O,b6,a3,Bxc3,Bxc3,Ne4,Be1,Ba6,Nd2,Nxd2,Qxd2,Bxf1,Bxf1,Qf6,b4,Ne7,c4,Nc8,Bg2,Rd8,cxd5,exd5,Rc1,Rd7,Bh3,Re7,Bg2,Qe6,h4,Nd6,Qa2,Nc4', 'Rxc4,dxc4,Bxa8', 'https://lichess.org/training/Ativp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ATjrt', 'Classical', 'LLIAX-MAT', 1642, 'birdofhermes', 1641, 'e4,e5,f4,exf4,Bc4,Nf6,Nc3,d5,Nxd5,Nxd5,Bxd5,Qh4+,Kf1,Bc5,d4,Bb6,Nf3,Qh5,Bxf4,O-O,c3,c6,Bb3,Re8,Qd3,Bd8,Re1,Bh4,g3,Bf6,e5,Be7,e6,Bxe6,Bxe6,fxe6,Rxe6', 'Qh3+,Kf2,Qxe6', 'https://lichess.org/training/ATjrt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ATKWd', 'Rapid', 'Tibovdh', 1957, 'adityasetyawann', 1917, 'c4,c5,g3,Nc6,Bg2,e6,Nc3,Nf6,e3,d5,cxd5,Nxd5,Nge2,Nxc3,bxc3,Bd6,d4,cxd4,cxd4,Bd7,O-O,Rb8,Qd3,O-O,Bd2,Ne7,Nc3,a6,Ne4,Bb5,Qb3,Bxf1,Rxf1,b5,Rc1,Ng6,Nxd6,Qxd6,Bb4,Qd8,Bxf8,Nxf8,Qc3,Qb6,Qc7,a5,Qxb6,Rxb6,Rc8,b4,Ra8,Rb5,Bf1,Rd5,Bc4,Rd7,Rxa5,Rb7,Ra8,g6,Kg2,Kg7,f4,Nd7,Bb3,Nf6,Kf3,h5,h3,Nd7,e4,Nb6,Rd8,Ra7,Rb8,Ra6,Rb7,Kf6,e5+,Kg7,Bxe6,Na4,Rxf7+,Kh6,Bb3,Nc3,Rf6,Ra3,Kf2,Ne4+,Ke1,Nxf6,exf6,Kh7,g4,hxg4,hxg4,Ra8,Ke2,Rc8,Ke3,Rc3+,Ke4,Rg3,g5,Kh8,Ke5,Re3+,Kd6,Re4,Kc5,Rxf4,Kxb4,Rxd4+,Kc5,Rg4,f7,Kg7,Kd6,Rxg5,a4,Rg3', 'Ke7,Re3+,Be6', 'https://lichess.org/training/ATKWd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AtMGC', 'Rapid', 'cikorazbijac123', 2087, 'only30sec', 2128, 'd4,e5,dxe5,Nc6,Nf3,Qe7,Bf4,Qb4+,Nc3,Qxf4,Nd5,Qa4,Nxc7+,Kd8,Nxa8,Qb4+,c3,Qxb2,Rc1,b6,Nd2,Nxe5,f4,Ng4,Nc4,Qxa2,e4', 'Qf2#', 'https://lichess.org/training/AtMGC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ATMNh', 'Blitz', 'jamesco', 1940, 'alanmosRJ23', 1946, 'd4,Nf6,Bf4,d5,e3,c5,Nf3,Bf5,Bd3,Bxd3,Qxd3,e6,c3,Nc6,Nbd2,Bd6,Bg3,c4,Qe2,O-O,a4,a6,O-O,Bxg3,hxg3,Ng4,e4,f5,exd5,exd5,Rfe1,Kh8,Ne5,Ncxe5,dxe5,Re8,f4,Re6,Nf3,Qb6+,Nd4,Rae8,Kh1,Rh6+,Kg1,Rh1+,Kxh1', 'Qh6+,Kg1,Qh2+,Kf1,Qh1#', 'https://lichess.org/training/ATMNh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aTnb0', 'Rapid', 'surdev', 1632, 'lootking', 1974, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bb5,Bc5,O-O,O-O,Bxc6,dxc6,d3,Re8,Na4,Bd6,b3,a6,Bb2,b5,Nc3,h6,a3,Qe7,b4,Bb7,h3,Rad8,Qe2,c5,Na2,Nh7,bxc5,Bxc5,Nc1,f6,Nb3,Bb6,Rfe1,Nf8,Nh4,c5,Kh1,Ne6,Qg4,c4,Nf5,Qf7', 'Nxh6+,Kf8,Nxf7', 'https://lichess.org/training/aTnb0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('atnHF', 'Rapid', 'carlr01', 1646, 'takavel', 1943, 'Nf3,e6,c4,d5,d4,Nf6,g3,Ne4,Bg2,c5,cxd5,Qxd5,Nc3,Nxc3,bxc3,cxd4,cxd4,Nc6,O-O,Qd8,Bg5,Be7,Bxe7,Qxe7,e3,O-O,a4,h6,Rb1,f5,Ne5,Nxe5,dxe5,Rb8,f4,b6,Qd6,Qd7,Rfd1,Rd8', 'Qxb8,Qxd1+,Rxd1', 'https://lichess.org/training/atnHF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aTNjS', 'Classical', 'ehsanafsharian64', 1756, 'behzadmaha', 1885, 'e4,e6,c3,d5,exd5,exd5,d4,Nf6,Bg5,h6,Qe2+,Be7,Bxf6,gxf6,Nd2,Nd7,g3,Nb6,b3,h5,Bg2,Bg4,Ngf3,Qd7,O-O,O-O-O,a4,a6,a5,Na8,b4,c6,Nb3,Nc7,Nc5,Bxc5,bxc5,h4,Rfe1,Rde8,Qb2,Rxe1+,Rxe1,hxg3,fxg3,Bh3,Qd2,Bxg2,Qxg2,Nb5,Qb2,Qg4,Re3,f5,Ne5,Qd1+,Kg2,Qh5,Kh1,f6,Nd3,Nxc3,Nf4,Qd1+,Kg2,Ne4,Ng6,Rh6,Nh4,f4,Rb3,fxg3,Rxb7,Qd2+,Qxd2,Nxd2,Rb2,Rxh4,Kxg3,Rxd4,h4,Nc4,Rf2,Nxa5,Rxf6,Re4,h5,Re8,h6,Rh8,Kf4,Kd7,Kf5,Nb3,Rf7+,Ke8,Rf6,Nxc5,Rxc6,d4', 'Rc8+,Kd7,Rxh8', 'https://lichess.org/training/aTNjS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aTPRR', 'Rapid', 'lobizonnegro', 2027, 'DaniFish', 1985, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bd6,Bd3,Nf6,O-O,O-O,Re1,Bg4,h3,Bh5,c3,c6,Bg5,Nbd7,Nbd2,Qc7,g4,Bg6,Nf1,Bxd3,Qxd3,h6,Bh4,Ne4,Kg2,f5,Ng3,g5,Nxf5,gxh4,Nxh6+,Kh8,Rxe4,dxe4,Qxe4,Nf6,Qg6,Qg7', 'Qxg7+,Kxg7,Nf5+,Kg8,Nxd6', 'https://lichess.org/training/aTPRR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AtpvA', 'Classical', 'fernandojota', 1958, 'Jonnydulcedeleche', 2044, 'Nf3,d5,d4,Nc6,c4,Bg4,e3,e5,h3,Bxf3,gxf3,exd4,exd4,dxc4,d5,Bb4+,Nc3,Ne5', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/AtpvA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('atRIv', 'Blitz', 'dkkapur', 1743, 'Sibi07', 1704, 'd4,d5,c4,Bf5,cxd5,Bxb1,Rxb1,Qxd5,e3,Nf6,Nf3,e6,Qa4+,c6,Bc4,Qd7,Ne5,Qc7,b4,b5,Bxb5,cxb5,Qxb5+,Nbd7,Ba3,Rb8,Qa4,a5,O-O,Be7,Rfc1,Qd8,Nc6,Rxb4,Nxd8,Rxa4,Bxe7,Kxe7,Nc6+,Kd6,Ne5,Nxe5,dxe5+,Kxe5,f4+,Ke4,Rc5,Kxe3,Re5+,Kxf4,Rbe1,Rd8,g3+,Kg4,Kg2,Rxa2+,Kh1,Nd7', 'R1e4+,Kf3,Rf4#', 'https://lichess.org/training/atRIv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AtS1X', 'Blitz', 'Finnja', 2048, 'lapsusmanus', 2060, 'd4,d5,Nf3,c6,e3,Bf5,c4,e6,Nc3,Nf6,Bd2,Bd6,Rc1,Nbd7,a3,O-O,b4,dxc4,Bxc4,e5,dxe5,Nxe5,Nxe5,Bxe5,Qb3,Bd3,Ne2,Bxc4,Qxc4,Qd6,Bc3,Rad8,Bxe5', 'Qd2+,Kf1,Qd1+,Rxd1,Rxd1#', 'https://lichess.org/training/AtS1X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ats3z', 'Blitz', 'La_Flor_celeste', 1711, 'VenUra1234', 1978, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,f3,e6,Be3,Be7,Bd3,O-O,Nb3,b5,Qd2,b4,Ne2,Nc6,g4,d5,exd5,Nxd5,Be4,Nxe3,Qxe3,Qc7,Na5,Bd7,Nxc6,Bxc6,O-O-O,Rac8,Nd4,Bxe4,Qxe4,e5,Nf5,Bg5+,Kb1,a5,Nd6,Rcd8,Qxe5,Bf6,Qg3,a4,Nf5,Be5,Qf2,a3,Rxd8,Rxd8,Qe3,Bxb2,Re1,g6', 'Qe8+,Rxe8,Rxe8#', 'https://lichess.org/training/Ats3z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ats9N', 'Blitz', 'esac01', 2065, 'NeedTimeToThink412', 2217, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,Re1,Nd6,Nxe5,Be7,Bxc6,dxc6,Qe2,Nf5,c3,c5,Qb5+,c6,Nxc6,bxc6,Qxc6+,Bd7,Qxc5,O-O,Qd5,Re8,d4,Bd6,Rxe8+,Qxe8,Nd2,Qe1+,Nf1,Re8,g4,Nh4,Qxd6,Qxf1+,Kxf1', 'Bb5+,c4,Bxc4+,Kg1,Re1#', 'https://lichess.org/training/Ats9N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('attLa', 'Rapid', 'Wackagragles', 1699, 'MarcosMOtto', 1703, 'e4,d6,Nf3,c6,Bc4,g6,c3,Bg7,d4,e6,O-O,Ne7,Bg5,d5,exd5,exd5,Bb3,O-O,Re1,f6,Bh4,g5,Nxg5,fxg5,Bxg5,Bf6,Qh5,Rf7,Bxf6,Rxf6,Qg5+,Kf7,Bc2,Qg8', 'Rxe7+,Kxe7,Qxg8', 'https://lichess.org/training/attLa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aturc', 'Blitz', 'psalmowen', 1886, 'My-Helmy', 1870, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e5,Nf5,h6,Bd3,Bxf5,exf5,Nc6,c4,Nd4,Nc3,Nf6,Be3,Be7,O-O,O-O,Bxd4,exd4,Nb5,Qb6,Re1,a6,Rxe7,axb5,cxb5,Nd5,Re4,Rfe8,a4,Rxe4,Bxe4,Nf6,Qf3,Re8,Bxb7,Qa5,h3,Qd2,b3,d3,Rd1', 'Re1+,Rxe1,Qxe1+,Kh2,d2', 'https://lichess.org/training/aturc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aTv94', 'Classical', 'shersse', 1610, 'TataMataSaha', 1650, 'Nf3,d5,d4,c5,e3,Nc6,c4,Bg4,Nbd2,Nf6,Be2,cxd4,exd4,e5,O-O,e4,Ne5,Nxe5', 'dxe5,Bxe2,Qxe2', 'https://lichess.org/training/aTv94');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AtVB9', 'Blitz', 'DjPandup', 1665, 'hamzaliaqat', 1841, 'e4,d6,h3,Nf6,Nc3,g6,d4,Bg7,Nf3,O-O,Bd3,Re8,O-O,e5,dxe5,dxe5,Bc4,c6,b4,b5,Bb3,Qd7,Qe2,Rd8,g4,Bb7,g5,Nh5,Nxe5,Bxe5,Qe3,Bd4,Qxd4,Qxd4,Bd2,Qxd2,Rad1,Qxc3,Rxd8+,Kg7,Rd7,Bc8,Rxf7+,Kh8', 'Rf8+,Kg7,Rg8#', 'https://lichess.org/training/AtVB9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AtvVs', 'Rapid', 'mihalu4', 1803, 'Dim167', 1631, 'e4,e5,Nf3,Nc6,Bb5,Qf6,d3,a6,Bc4,h6,Nc3,Nge7,Nd5,Nxd5,Bxd5,Bc5,O-O,d6,h3,Be6,Bxe6,Qxe6,c3,g5,d4,exd4,cxd4,g4,d5,Qg6,dxc6,gxh3,g3', 'Qxg3+,Kh1,Qg2#', 'https://lichess.org/training/AtvVs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('atxK8', 'Rapid', 'tilenbaev', 2194, 'Enis_Metinn57', 2360, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bc4,Bg7,Be3,Ng4,Bb5+,Kf8,O-O,Be5,h3,Nxe3,fxe3,Kg7,Bc4,Rf8,Qf3,e6,Bb3,Nc6,Rad1,Bd7,Qg4,h5,Qf3,a6,a4,Rc8,Nce2,Na5,Nf4,Nxb3,cxb3,Qb6,Kh1,Qc5,Qg3,Kh7,Qh4,b5,g4,Rg8,gxh5', 'g5,Nd3,gxh4', 'https://lichess.org/training/atxK8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AtXpk', 'Rapid', 'umesh78', 1795, 'DanteFermin', 1763, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Be2,Nd7,O-O,h6,a3,c5,dxc5,Bxc5,b4,Bb6,Bb2,Ne7,h3,O-O,Bd3,Rc8,a4,a6,a5,Ba7,Ra3,Bg6,Bxg6,Nxg6,Nc3,Ndxe5,Nxe5,Nxe5,Ne2,Nc4,Ra2,Nxb2,Rxb2,Qf6,Rb3,Rc4,Rf3,Qe7,c3,Rfc8,Qc1,d4,Rg3,Qf6,Qf4,Qxf4,Nxf4,dxc3,Nh5,Bd4,Rd1,c2,Rxd4,c1=Q+,Kh2,Rxd4,Nxg7,Kh7,Nh5,Rg8', 'Nf6+,Kh8,Rxg8#', 'https://lichess.org/training/AtXpk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AtXr9', 'Rapid', 'chikasae', 1879, 'Avo-k', 1826, 'e4,Nc6,Nf3,e5,Bc4,Bc5,d3,Nf6,Nc3,O-O,Ng5,h6,h4,hxg5,hxg5,Nh7,Qh5,Re8,Qxh7+,Kf8,g6,Qf6,gxf7,Qxf2+,Kd1,d5,fxe8=Q+,Kxe8,Qg8+,Ke7,Nxd5+,Kd6,Nxc7', 'Bg4#', 'https://lichess.org/training/AtXr9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ATYAE', 'Rapid', 'MrBuco', 1622, 'Marx_saul', 1619, 'c4,Nf6,Nc3,g6,g3,Bg7,Bg2,O-O,Nf3,c5,O-O,Nc6,a3,d6,Rb1,Bf5,d3,Rb8,b4,cxb4,axb4,a6,b5,axb5,Rxb5,e5,Nd5,Na7,Nxf6+,Qxf6,Rb3,b5,Ra3,Nc6,cxb5,Rxb5,Qa4,Rfb8,Nd2,Nd4,e3,Ne2+,Kh1,Nxc1,Rxc1,Bd7,Qa6,R5b6,Qa7,R6b7,Bxb7,Qxf2,Qxb8+,Bf8,Ne4,Qf3+,Kg1,Bh3,Ra2', 'Qxe3+,Nf2,Qxc1+', 'https://lichess.org/training/ATYAE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AtyvK', 'Rapid', 'sasha111', 2162, 'trippinboris', 1876, 'd4,Nf6,c4,g6,Nf3,Bg7,e3,d6,Be2,O-O,O-O,Na6,Nc3,e5,a3,exd4,exd4,Re8,h3,c6,Be3,d5,b3,Nc7,Qc1,a5,b4,a4,Qd1,Ne4,Nxa4,Rxa4,Qxa4,Nc3,Qc2,Nxe2+,Qxe2,dxc4,Qxc4,Nd5,Bg5,f6,Bh4,Kh8,Rfe1,g5,Bg3,Be6,Qd3,Bf7,Rxe8+,Qxe8,Re1,Qa8,h4,Bg6,Qb3,g4,Nd2,h5,Nc4,f5,Be5,f4,Bxg7+,Kxg7,a4,Qd8,a5,Qxh4,Nb6,g3,fxg3,fxg3,Nxd5,cxd5,Qxd5', 'Qh2+,Kf1,Bd3+,Re2,Qh1#', 'https://lichess.org/training/AtyvK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('au0G8', 'Rapid', 'puppoo1981', 1641, 'juanfra4050', 1718, 'c4,Nf6,Nc3,b6,g3,Bb7,Nf3,d5,cxd5,Nxd5,Bg2,Nxc3,bxc3,g6,O-O,Bg7,Re1,O-O,d4,e6,Qd2,Nd7,Qf4,Rc8,h4,c5,Rb1,Qc7,Qg5,e5,dxe5,Nxe5,Bf4,Nxf3+,Bxf3,h6,Qg4,Bxf3,Qxf3,Qc6,e4,Rfd8,Red1,Qe6,a3,c4,Rd5,Rxd5,exd5,Qf5,Qd1,Bxc3,d6,Be5,Bxe5,Qxe5,d7,Rd8,Qa4,Qf5,Rd1,c3,Qxa7', 'c2,Rc1,Rxd7', 'https://lichess.org/training/au0G8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AU13T', 'Blitz', 'singa100', 1649, 'Ydydufufuguc', 1677, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Be2,Bf5,O-O,e6,Re1,Bd6,c3,Nbd7,Nbd2,O-O,Nf1,Ne4,Ng3,Nxg3,fxg3,Bg6,Nh4,Nf6,Bg5,h6,Bf4,Bxf4,gxf4,Ne4,Nxg6,fxg6,Bf3,Rxf4,Bxe4,Rxe4,Rxe4,dxe4,Qe2,Qh4,Re1,Rf8,Qxe4', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/AU13T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('au16W', 'Classical', 'Weaselslayer', 1941, 'Andreeeeeeee', 1769, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,a6,Na3,h6,Nd5,Nf6,c3,Be7,Bd3,O-O,Nc2,Be6,Nxe7+,Nxe7,Ne3,Ng6,Nd5,Nxd5,exd5,Bxd5', 'Bxg6,Bxg2,Rg1', 'https://lichess.org/training/au16W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aU2br', 'Rapid', 'Alexruteng', 1951, 'fe-na-1985', 2031, 'e4,c5,f4,Nc6,Nf3,d6,c3,Nf6,d3,e6,Be2,Be7,O-O,O-O,b3,Bd7,Bb2,Rc8,Nbd2,a6,h3,b5,g4,Ne8,f5,exf5,exf5,Ne5,Nxe5,dxe5,Ne4,Qb6,c4,bxc4,dxc4,Bc6,Qc2,Bxe4,Qxe4,Bf6,Kh2,Nd6,Qe3,Rfe8,g5,Bd8,f6,Qc7,Kg1,Qd7,Bg4,Qc7,Bxc8,Nxc8,Rae1,Qd7,Re2,Bc7,Rg2,e4,fxg7,Nd6,h4,Nf5,Rxf5,Qxf5,Bf6,Be5,Qxc5', 'Bh2+,Kxh2,Qxc5', 'https://lichess.org/training/aU2br');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('au2Sl', 'Rapid', 'mateo58', 1695, 'devela_liberty', 1719, 'd4,d5,Bf4,h5,e3,e5,Bxe5,f6,Bf4,g5,Bxg5,fxg5,Be2,h4,Bh5+,Ke7,Nh3,Bxh3,gxh3,Nc6,Qg4,Bh6,Na3,Nf6,Qe2,Nxh5,Qxh5,Qf8,Nb5,Kd7,Qg4+,Kd8,Rf1,Qb4+,Nc3,Qxb2,Kd2,Nb4,Qf5,Qa3,Nxd5,Nxd5,Qxd5+,Kc8,Rfb1,c6,Qe6+,Kd8,Rxb7,Qa5+,Ke2', 'Qa6+,c4,Qxb7', 'https://lichess.org/training/au2Sl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('au4Vh', 'Rapid', 'Kurac_Palac', 1727, 'MSN10', 1697, 'g3,d5,Bg2,c5,Nf3,Nf6,O-O,Nc6,d3,e5,e4,Nd4,Nxe5,dxe4,dxe4,Bd6,Nc4,b5,e5,Bg4,Qd2,bxc4,Bxa8,Bf3,exf6,Bxa8,Qe3+,Ne6,Nc3,gxf6,Nb5,Rg8,Nxd6+,Qxd6,Bd2,Qc6,f3,Rg4,Rae1,Kf8,Bc3,Kg7,b3,Ng5,Qe7', 'Nxf3+,Rxf3,Qxf3,Qxf6+,Qxf6,Bxf6+,Kxf6', 'https://lichess.org/training/au4Vh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AU5U3', 'Blitz', 'Potrock', 1619, 'osama_alattar', 1792, 'd4,d5,c4,c6,Nc3,e6,Nf3,Nf6,Bg5,Bb4,Qc2,b6,a3,Be7,e3,Ba6,b3,Nbd7,Bd3,O-O,O-O,Rc8,Bxf6,Nxf6,Bxh7+,Nxh7,h4,Bxh4,g3,Be7,Ne2,Bf6,Nf4,c5,Rfd1,cxd4,exd4,dxc4,Qe4,cxb3,Rab1,Bc4,Nh5,Ng5,Nxg5,Bxg5,Qg4,Bd5,f4,Bf6,Kf2,Rc3,Rh1,Bxh1,Rxh1,Qxd4+,Kg2,Rc2+,Kh3,Qf2', 'Nxf6+,Kh8,Qh4#', 'https://lichess.org/training/AU5U3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('au5xO', 'Rapid', 'aytimofeev', 1866, 'tomjohan', 1862, 'd4,e5,dxe5,Bc5,Nf3,d6,exd6,Ne7,dxe7,Bxf2+,Kxf2,Qxd1,Be3,Qxc2,Nbd2,Nc6,b3,Nxe7,g3,O-O,Bg2,Bf5,Rhc1,Qb2,Bg5,Rfe8', 'Nc4,Qxa1,Rxa1', 'https://lichess.org/training/au5xO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Au6E4', 'Rapid', 'krzysiekstasilas', 1687, 'Vito_Henman', 1710, 'e4,g6,f4,Nf6,Nc3,d6,Bc4,Bg7,Nf3,O-O,O-O,c6,d4,Bg4,h3,Be6,Bxe6,fxe6,Ng5,Qd7,e5,Nd5,Qg4,Rf5,Qh4,h6,Nge4,dxe5,fxe5,Nxc3,bxc3,Qd5,Ng3,Rxf1+,Kxf1,g5,Bxg5,hxg5,Qxg5,Qd8,Nh5,Qf8+,Kg1,Kh8,Rf1,Qg8,Qxe7,Na6,Rf7,Re8,Qg5,Qxf7,Qh4,Kg8,Qg5,Rf8', 'Nf6+,Qxf6,exf6', 'https://lichess.org/training/Au6E4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aU73S', 'Blitz', 'AWChesspower', 2179, 'WNM GlysenyD', 2235, 'd4,g6,c4,Bg7,e4,d6,Nc3,Nf6,Nf3,O-O,Be2,e5,Be3,Nbd7,O-O,Re8,Qc2,exd4,Nxd4,Ne5,f3,a6,Rad1,Nh5,Qd2,Nd7,Nd5,c6,Nc3,Qh4,Bg5', 'Bxd4+,Qxd4,Qxg5', 'https://lichess.org/training/aU73S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('auAAT', 'Rapid', 'ktlcea', 1622, 'mahyar60', 1680, 'e4,e5,Nf3,Nc6,Bb5,Qf6,d3,h6,Nc3,a6,Ba4,b5,Bb3,Bb4,Bd2,Bxc3,Bxc3,Nge7,a4,b4,Bd2,a5,c3,bxc3,Bxc3,O-O,Rc1,Ng6,Bd2,Nh4,Nxh4,Qxh4,Be3,Ba6,Rc3,Nb4,O-O,c6,Qf3,d5,Bc5,Rfd8,Rd1,Qf4,Qxf4,exf4,exd5,Nxd5,Bxd5,Rxd5,d4,Re8,f3,Re3,Kf2,Re2+,Kf1,Rxb2+,Kg1,Re2,Bb6,Re3,Rxc6,Be2,Rdc1,Re8,R6c5,Rd7,R1c2,Bd3,Rd2', 'Re1+,Kf2,Rf1#', 'https://lichess.org/training/auAAT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AUcog', 'Blitz', 'Emasculator', 1868, 'oroles', 1963, 'Nf3,c5,g3,g6,Bg2,Bg7,O-O,Nc6,d3,Nf6,e4,O-O,c3,e6,Bg5,Qb6,Qd2,d5,Re1,dxe4,dxe4,e5,Na3,Be6,Rab1,Bxa2,Ra1,Be6,Bh6,Rfd8,Qg5,Qxb2,Bxg7,Kxg7,Nxe5,Nxe5,Qxe5,Rd2,Rf1,Rad8,g4,Rxf2,Rxf2,Qxa1+,Bf1,Rd1,Qxf6+,Kf8,Nb5,Bc4,Nc7,Rxf1+,Rxf1,Bxf1', 'Ne6+,Kg8,Qd8#', 'https://lichess.org/training/AUcog');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Aucuz', 'Rapid', 'RUNART', 1867, 'Artsk757', 1859, 'd4,d5,Nc3,e6,e4,Nf6,Be3,dxe4,f3,exf3,Nxf3,Bb4,a3,Bxc3+,bxc3,O-O,Bd3,Ng4,Qd2,Nc6,O-O,e5,dxe5,Ngxe5,Bd4,Nxf3+,Rxf3,Bg4,Rf4,Bh5,Raf1,a6,Bc4,Ne5,Bb3,Qd6,Qf2,b6,Bxe5,Qxe5,Rf5,Qe2,Qf4,Bg6,Bxf7+,Bxf7,Rxf7,Qe8', 'Rxf8+,Qxf8,Qc4+,Kh8,Rxf8+', 'https://lichess.org/training/Aucuz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AUdiX', 'Blitz', 'Mtmrts', 1897, 'smallformfactor', 2143, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nge7,Nc3,Ng6,Be3,d6,h3,Qe7,Nd5,Qd8,Bxc5,dxc5,c3,O-O,O-O,Be6,a3,Nce7,Qb3,b6,Nxe7+,Qxe7,Bxe6,Qxe6,Qxe6,fxe6,Nd2,Nf4,Nf3,Nxd3,Rab1,Rad8,c4,h6,Rfd1,Kf7', 'Rxd3,Rxd3,Nxe5+,Kf6,Nxd3', 'https://lichess.org/training/AUdiX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AUdJL', 'Rapid', 'ashrafamin73', 1820, 'hector00', 1848, 'e4,c6,d4,Nf6,Nc3,e6,Bd3,h6,f4,Bb4,Nf3,O-O,O-O,b5,Ne2,d5,c3,Ba5,e5,Ne4,Bxe4,dxe4,Nd2,f5,exf6,Qxf6,Nxe4,Qe7,N2g3,Bb6,Kh1,Na6,Bd2,Bd7,Qf3,Nc7,Rae1,Nd5,Nh5,Rf5,Nhg3,Rf7,Nf2,Raf8,Nh3,a5,Qh5,Nf6,Qe5,Nd5,f5,Bc7,Qe2,Bxg3,hxg3,Rxf5,Rxf5,Rxf5,g4,Rf7,g5,g6,gxh6,Rf5,Qg4,Nf6,Qxg6+,Kh8,Ng5,Nh7,Nxe6,Bxe6,Rxe6', 'Rf1+,Kh2,Qh4#', 'https://lichess.org/training/AUdJL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AUdnL', 'Bullet', 'Pokyn', 1856, 'rarraHolland', 1832, 'e4,e6,Nf3,d5,Nc3,dxe4,Nxe4,Bd7,d4,c5,dxc5,Bxc5,Bd3,Bb6,O-O,Nf6,Nd6+,Kf8,Ne4,Bc6,Qe2,Nbd7,Bg5,Qc7,Nxf6,gxf6,Bh6+,Ke7,Rad1,Rag8,Be3,h5,g3,h4,Bxb6,Nxb6,Be4,hxg3,hxg3,Bxe4,Qxe4', 'Rxg3+,fxg3,Qxg3#', 'https://lichess.org/training/AUdnL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AudoQ', 'Classical', 'kentauri', 1671, 'Julioaraujo', 1631, 'e4,e5,d4,exd4,c3,dxc3,Nxc3,Nc6,Bc4,Nf6,Bg5,h6,Bh4,g5,Bg3,d5,exd5,Na5,Qe2+,Qe7,Qxe7+,Bxe7,Bd3,Bg4,Nge2,O-O-O,h3,Bxe2,Bxe2,Nxd5,Nxd5,Rxd5,O-O,f5,b4,f4,Bh2,Bxb4,Rab1,Rd4,g3,Bc5,Rb5,b6,gxf4,gxf4,Rd1,Rg8+,Kh1,Rxd1+,Bxd1,Rf8,f3,Rg8,Rb1,Nc4,Be2,Nd2,Rd1,Be3,Bd3,Nxf3,Bf5+,Kb7,Be4+,c6,Bxf3,a5,Bg4,b5,Kg2', 'h5,Kf3,hxg4+', 'https://lichess.org/training/AudoQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aue5m', 'Rapid', 'martinez1967', 1649, 'mir1', 1734, 'f4,Nc6,Nf3,d6,e3,e5,Bb5,Bd7,O-O,exf4,exf4,Be7,Re1,Nf6,Qe2,a6,Bxc6,Bxc6,Nd4,Nd5,d3,Bd7,c4,Nf6,Nc3,c5,Nf3,b5,Nd5,Nxd5,cxd5,Bg4,b3,Bxf3,Qxf3,O-O,f5,Bf6,Rb1,Bd4+,Kh1,Qf6,Re4,Rfe8,Bd2,Re5,Rf4,Rae8,Rf1,Be3,Bxe3,Rxe3,Qd1,Qc3,Qh5,Re1,h3,Rxf1+,Rxf1,Qxd3,Rd1,Qg3,f6,Re1+,Rxe1,Qxe1+,Kh2,Qe5+', 'Qxe5,dxe5,d6,gxf6,d7', 'https://lichess.org/training/aue5m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aUFaX', 'Rapid', 'emataran', 1696, 'Mohammadsadeghi', 1731, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,d6,d4,exd4,e5,dxe5,Nxe5,Nxe5,Re1,Qf6,f4,d3+,Kh1,dxc2,Qxc2,Bf5,Rxe5+,Be6,Bxe6,Bd6,Bxf7+,Kd8,Rf5,Qe7,Bd2,Nh6,Bb3,Nxf5,Qxf5,Rf8,Qxh7,Bxf4,Qd3+,Kc8,Nc3,Bd6,Nb5,Bc5,Re1,Qh4,Be6+,Kb8,Qd7', 'Qxe1+,Bxe1,Rf1#', 'https://lichess.org/training/aUFaX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AuFRc', 'Rapid', 'Bigbobmango2', 1652, 'Jmur', 1625, 'd4,c6,c4,d5,Nc3,g6,Bg5,Bg7,e3,Nf6,Bd3,O-O,Qc2,Bg4,Nge2,Na6,a3,Qa5,b4', 'Nxb4,axb4,Qxa1+', 'https://lichess.org/training/AuFRc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AufZb', 'Rapid', 'vicky12575588555', 1705, 'Peondemente', 1692, 'e3,e5,Bc4,d5,Bb3,c5,a3,b5,Qf3,c4,Ba2,Nf6,d4,e4,Qd1,Bd6,Nc3,a6,Nge2,Qc7,Nf4,Bxf4,exf4,O-O,Be3,Bb7,h3,Nc6,g3,Ne7,g4,Ne8,f3,f5,g5,Ng6,Qd2,Nh4,Ke2,Qf7,Raf1,Nc7,Rhg1,Ne6,Kf2,Qh5,Rg3,Ng6,Ne2,Ne7,Qb4,Nc6,Qd2,g6,Qd1,Qh4,Rh1,Ng7,Kg2,Nh5,Rg4,fxg4,hxg4,Nxf4+,Bxf4,Qxh1+,Qxh1,Nxd4,Nxd4,Rxf4,Qh6', 'exf3+,Kf2,Rxd4', 'https://lichess.org/training/AufZb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AUGA4', 'Blitz', 'burpees123', 1825, 'Guillaume-EPL', 1844, 'd4,c5,d5,d6,c4,b5,cxb5,a6,bxa6,Bxa6,Nf3,Nf6,Nc3,Nbd7,e4,Bxf1,Kxf1,g6,g3,Bg7,Kg2,O-O,Qe2,c4,Qxc4,Qb6,Qe2,Rfb8,b3,Ng4,Bb2,Nc5,h3,Bxc3,Bxc3,Nxe4,hxg4,Nxc3,Qxe7,Re8,Qf6,Ne4,Qb2,Rac8,Rxh7,Kxh7', 'Rh1+,Kg8,Rh8#', 'https://lichess.org/training/AUGA4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Auhmz', 'Rapid', 'javijupiter', 1726, 'k4rmac', 1738, 'd4,Nf6,c4,g6,Nc3,d5,Qc2,Bf5,Qb3,dxc4,Qxb7,Nbd7,e3,Bd3,Bxd3,cxd3,Qb5,Bg7,Qxd3,O-O,Nf3,Nb6,Bd2,Nfd5,O-O,Nxc3,bxc3,Nd5,c4,Nb6,Rac1,e6,Bb4,Re8,a3,Na4,Qe4,a5,Bd2,Qd7,d5,exd5,Qxd5,Qxd5,cxd5,Nb6,Rxc7,Nxd5,Rc5,Nf6,Rxa5,Ne4,Rxa8,Rxa8,Bb4,Nf6,Nd4,Nd7,Nb3,Bb2,Nc5,Nxc5,Bxc5,Ra5,Bb4,Ra4,Rb1,Bxa3,Bxa3,Rxa3,g3,Rd3,Kg2,Kg7,Rb6,h5,Rb4,f5,Rd4,Ra3,Kf3,Ra8,Kf4,Kh6,Kf3,Ra2,h3,Kg5,Rd6,Ra4,Rd4,Ra2,g4,hxg4+,hxg4,fxg4+,Rxg4+,Kf6,Rg2,g5,Rg1,Ra3,Rd1,Kg6,Rd4,Kh5,Kg3,Rb3,Kg2,g4,e4,Rb8,e5,Re8,Re4,Kg5,Kg3,Kf5,Re2,Rxe5', 'Rxe5+,Kxe5,Kxg4', 'https://lichess.org/training/Auhmz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('auHuL', 'Blitz', 'FM ragetilt', 2613, 'cheesebuster', 2317, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,d5,Bd3,Bd6,O-O,O-O,c4,c6,Qc2,f5,Nc3,Be6,Ne2,Nd7,Nf4,Bf7,Rd1,Rc8,b3,g5,Ne2,g4,Ne5,Nxe5,dxe5,Bxe5,Bb2,Qf6,Bxe5,Qxe5,Bxe4,fxe4,Qd2,Kh8,cxd5,cxd5,Qe3,Bg8,Rd2,b6,Rad1,Rf6,Nd4,Rcf8,Re1,h5,h3,Kg7,hxg4,hxg4,Ne2,Rh6,Ng3,Be6,Qd4,Qxd4,Rxd4,Rfh8,Rc1,Kf6,Rc7,Ke5,Rd1,d4,Re1,Bd5,Re7+,Re6,Rxe6+,Kxe6,Nxe4,Kf5,Nd6+,Kg5', 'Re5+,Kf6,Rxd5', 'https://lichess.org/training/auHuL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AUj7k', 'Rapid', 'm0ntana', 1752, 'pnhj', 1729, 'd4,b6,e3,Bb7,c4,e6,Nf3,Nf6,Be2,d5,Bd2,dxc4,Bxc4,c5,O-O,cxd4,exd4,Bxf3,Qxf3,Nbd7,Bb5,Be7,Bg5,O-O,Bxf6,Bxf6,Nc3,Bxd4,Rfd1,Nc5,Ne2,Bxf2+,Kxf2,Qf6,Qxf6,gxf6,Bc6,Rac8,Bf3,Rfd8,Rxd8+,Rxd8,b3,b5,Nf4,e5,Nh5,Rd6,Ng3,a5,Nf5,Rd7,Bc6,Rc7,Bxb5,h6,Rd1,Kh7,Ke3,Kg6,Nh4+,Kg5,Nf3+,Kg4,h3+,Kg3,Ng1,Ne6,Ne2+,Kxg2,Bd7,Rc3+,Rd3', 'Rxd3+,Kxd3,Nc5+,Kc4,Nxd7', 'https://lichess.org/training/AUj7k');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AUK1G', 'Classical', 'MapleLeaf99', 1687, 'anka18', 1673, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,d5,exd5,Qxd5,Nc3,Bb4,a3,Bxc3+,bxc3,c5,Qe2+,Ne7,Nf3,Bg4,Bb2,Bxf3,gxf3,c4,Rd1,Qc6,Bg2,O-O', 'Qxe7,Re8,Rd8', 'https://lichess.org/training/AUK1G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AuKzZ', 'Rapid', 'WarZone_Online', 1716, 'IUChess', 1868, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,d3,Bf5,Bd2,c6,Ne4,Qc7,Nxf6+,exf6,Qe2+,Be7,O-O-O,O-O,Nh4,Be6,g3,Bd5,Rg1,Re8,Be3,Nd7,Bg2,Bxa2,Nf5,Bd5,Bxd5,cxd5,Qg4,Bf8,Bf4,Qa5,Nh6+,Kh8,Nxf7+,Kg8,Qxd7', 'Qa1+,Kd2,Bb4+,c3,Qxb2#', 'https://lichess.org/training/AuKzZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AUMkf', 'Rapid', 'Bogdan-Meduric', 1763, 'Darbelly', 1735, 'f4,c6,Nf3,d5,e3,Bg4,Be2,e6,c3,Bd6,d4,Nf6,O-O,O-O,Ne5,Bxe2,Qxe2,Ne4,Nd2,Bxe5,fxe5,Nd7,Nxe4,dxe4,Qc2,f5,exf6,Nxf6,Qe2,Qd5,c4,Qh5,Qxh5,Nxh5,Bd2,Rf5,g4,Rg5,h3,Rf8,Rxf8+,Kxf8,Kg2,Nf6,Be1,h5,Bh4,Rg6,Bxf6,gxf6,Kg3,f5,Rf1,hxg4,hxg4,Rxg4+,Kh3,Ke7,b4,b6,a4,Kf6,c5,e5,dxe5+,Kxe5,Rd1,Rg7,Rd6,Rc7,Kg3,bxc5,bxc5,Rb7,Rxc6,Kd5,Rc8,Rb4,Kf4,Rc4,Kxf5,Rxc5', 'Rxc5+,Kxc5,Kxe4', 'https://lichess.org/training/AUMkf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AUoIE', 'Rapid', 'ferrucciolari', 1806, 'JuneliRrabary', 1804, 'e4,e5,f4,exf4,Nf3,h6,h4,d6,d4,Bg4,Bxf4,Nf6,Nc3,c6,Qd3,Be7,e5,Nh7,O-O-O,Bxf3,Qxf3,Bxh4,exd6,O-O,g3,Bg5,Bxg5,Nxg5,Qf4,Ne6,Qg4,Qg5+,Qxg5,Nxg5,d5,cxd5,Nxd5,Nd7,Ne7+,Kh8,Bb5,Rfd8,Rhf1,a6,Bc4,Ne5,Bb3,f6,Nf5,Rac8,Bd5,Rb8,Bg2,b5,Rd5,Rb6,Rfd1,Ngf7,d7,Ng5,R5d2,Ngf3,Bxf3,Nxf3,Rd3,Ne5,Rd6,Rxd6,Rxd6,a5,Nd4,b4,Nc6,Rxd7', 'Nxe5,Rxd6,Nf7+,Kh7,Nxd6', 'https://lichess.org/training/AUoIE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AuOJQ', 'Rapid', 'ramanuj88', 1523, 'Hashira93', 1563, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nc3,Nxd4,Qxd4,Qe7,Bd3,c6,O-O,d5,exd5,cxd5,Bg5,Be6,Nxd5,Qd7,Nxf6+,gxf6,Qxf6,Rg8,Bxh7,Be7,Rad1,Qc7,Qd4,Rxg5,Rfe1,Rh5', 'Qh8+,Bf8,Rxe6+,fxe6,Bg6+', 'https://lichess.org/training/AuOJQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aUoKV', 'Blitz', 'etg12345', 1999, 'IM Alenee', 2417, 'e4,c5,Nf3,e6,c4,Nc6,d3,Nf6,Be2,d5,Nc3,Be7,O-O,O-O,Bg5,d4,Bxf6,Bxf6,Nb1,e5,Nbd2,g6,Rb1,Bg7,a3,a5,Nb3,Qd6,Ne1,f5,Nd2,Bd7,exf5,gxf5,Bf3,Rae8,Bd5+,Kh8,f3,b6,Nc2,Ne7,Bb7,Rf6,b4,axb4,axb4,Rh6,h3,Ng6,bxc5,bxc5,Bd5,Nf4,Rf2,Bf6,Rf1,Bg5,Ne1,Nxd5,cxd5,Be3+,Kh1,Bxd2,Qxd2,f4,Kg1,Rg8,Kf2,Qxd5,Ke2,Bf5,Kd1,c4,Rf2,c3,Qc2,Ra6,Qb3,Be6,Qxd5,Bxd5,Re2,Re8,Rb5,Ra1+,Kc2,Bc6,Rbxe5,Rxe5,Rxe5', 'Ba4#', 'https://lichess.org/training/aUoKV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AuouM', 'Classical', 'Yak37', 1789, 'jenspetermann', 1741, 'd4,e6,c4,Nf6,Nf3,d5,e3,Be7,Qc2,O-O,Nc3,a6,Bd2,c5,Bd3,cxd4,Nxd4,dxc4,Bxc4,Qc7,Bb3,Nc6,Nxc6,Qxc6,O-O,b5,a3,Bb7,f3,Rfd8,Rae1,Rac8,h3,a5,Ba2,b4,axb4,axb4,Bb1,bxc3,Bxc3,Ba6,Rf2,Nd5', 'Qxh7+,Kf8,Qh8#', 'https://lichess.org/training/AuouM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aUp43', 'Rapid', 'mertFM', 2049, 'magikk', 1908, 'd4,d5,Bf4,Bf5,e3,e6,Nd2,Bd6,Bg3,Bxg3,hxg3,Nf6,Ngf3,c6,Nh4,Bg4,f3,Bf5,Nxf5,exf5,Bd3,g6,c3,Qc7,Kf2,Nbd7,e4,fxe4,fxe4,O-O-O,e5,Nh5,b4,Rde8,b5,f6,bxc6,bxc6,Nf3,fxe5,dxe5,Nxe5,Ba6+,Kd8,Re1,Qb6+,Qd4,Ng4+,Kg1,Qxd4+,Nxd4,Kc7,Ne6+,Kd6,Ng5,Rxe1+,Rxe1,Rb8,Nf7+,Kd7,Be2,Ngf6,g4,Ng3,Bf3,Nfe4,c4,Rb2,cxd5,cxd5,Rd1,Ke6,Nd8+,Ke7,Nc6+,Ke6,Nd8+,Kf6,Rxd5,Rb1+,Kh2,Nf1+,Kh3,Nf2+,Kh4,g5+,Kh5', 'Ng3+,Kh6,Rh1#', 'https://lichess.org/training/aUp43');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AuQhK', 'Rapid', 'delta_gate', 2021, 'fernando55006', 1739, 'd4,f5,e3,Nf6,b3,d5,Bd3,e5,dxe5,Ng4,Bb2,Be6,Nd2,Nc6,Bb5,Qd7,h3,Nh6,Qh5+,g6,Qg5,a6,Bd3,Nf7,Qf6,Rg8,Qh4,g5,Qxh7', 'Rh8,Qxh8,Nxh8', 'https://lichess.org/training/AuQhK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aur7J', 'Rapid', 'MaxEve', 1946, 'Pie-Oh-My', 1905, 'e4,c6,d4,d5,e5,Bf5,Nf3,h6,Bd3,Bxd3,Qxd3,e6,c4,dxc4,Qxc4,Ne7,Nc3,Nd7,O-O,Nb6,Qe2,Ned5,Bd2,Be7,a3,a5,Qd1,O-O,h3,Nxc3,bxc3,Nc4,Bc1,b5,Nd2,Nb6,Qc2,a4,c4,Qxd4,Bb2,Qc5,Rfc1,b4,Ne4,b3,Qc3,Qa5,Qd3,Rfd8,Qg3,Rd7,Bc3,Qa6,Bb4,Bxb4,axb4,Rd4,Nc5,Qa7,Qe3,Rad8,Qe2,Rd2,Qe3,b2,Ne4,bxc1=Q+,Rxc1,R2d4,Nd6,R4xd6,exd6,Rd7,c5,Nd5,Qa3,Qb7,Rb1,Qb5,Ra1,Ra7,Rb1,Kf8,Qb2,Nf6,Qa3,Nd7,Re1,Qc4,Rc1,Qb3,Ra1,Qxa3,Rxa3,Ke8,Kf1,Kd8,Ke2,Kc8,Kd3,Kb7,f4,Nf6,Kc4,Nd5,g3,Kc8,b5,Kd7,b6,Rb7,Rxa4,Nxb6+,cxb6,Rxb6,Ra7+,Ke8,Kc5,Rb5+,Kxc6,Rd5,d7+,Kd8', 'Ra8+,Ke7,Re8+', 'https://lichess.org/training/aur7J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aUriG', 'Rapid', 'burj', 2111, 'chillingsworth', 2025, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,h4,h6,N1e2,e6,Nf4,Bh7,Bc4,Nf6,Qe2,Be7,Bxe6,fxe6,Nxe6,Qd5', 'Nc7+,Kf7,Nxd5', 'https://lichess.org/training/aUriG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aUsfd', 'Rapid', 'pequenoFischer111', 1810, 'Zumbilangelo1996', 1847, 'e4,c5,Nf3,a6,d4,e6,d5,Nf6,dxe6,fxe6,e5,Nd5,Ng5,Ne7,Bd3,c4,Qf3,Qa5+,Bd2,Qxe5+,Be4,d5,Qf7+,Kd7,Bb4,Qxg5,O-O,Nc6,Bxd5,Qxd5,Nc3,Qf5,Rfd1+,Kc7,Bd6+,Kb6,Na4+,Kb5,Nc3+,Kb6,Na4+,Kb5,Nc3+,Kb6,Na4+,Ka7,Bc5+,Kb8,Qe8,b5,Nb6,Qxc5', 'Nd7+,Kc7,Nxc5', 'https://lichess.org/training/aUsfd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ausM0', 'Blitz', 'Masterofcomplication', 1840, 'ngoshady-karpov', 1818, 'e4,c5,Nc3,a6,Bc4,d6,a3,e6,f4,Nf6,Nf3,Be7,d3,O-O,O-O,Qc7,Qe1,b5,Ba2,Bb7,Qg3,Nbd7,f5,e5,Ng5,b4,Ne2,Rac8,Be3,a5,Rac1,Qd8,a4,Nh5,Qg4,Bxg5,Bxg5,Nhf6,Qg3,c4,Bh6,Ne8,Bxc4,Rxc4,dxc4,Bxe4,b3,Kh8,Be3,Ndf6,Qf2,Qa8,Ng3,Bb7,c5,dxc5,Bxc5,Rg8,c3,bxc3,Rxc3,Nc7,Rfc1,Na6,Be7,Nd5,Rc4,Nxe7,Nh5,f6,Rg4,Nd5,h3,Nf4,Qh4,Nxh5,Qxh5,Bxg2', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/ausM0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aUtdf', 'Blitz', 'Dimagio', 1560, 'jitre', 1559, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qf6,Be3,g6,c3,Bg7,f4,Nh6,e5,Qh4+,g3,Qe7,Na3,d6,Nab5,Nxd4,cxd4,dxe5,dxe5,c6,Nd6+,Kf8,Bc4,Be6,Bc5,b6,Ba3,c5,Qf3,Rd8,Bxe6,fxe6,O-O,Nf5,Rad1,Nxd6,exd6,Bd4+,Kh1,Rxd6,b4,Kg7,bxc5,bxc5,Qb3,Rhd8,Qa4,e5,fxe5,Qxe5,Qxa7+,Kh6,Bc1+,Kh5,Rf4', 'Qd5+,Re4,Qxe4#', 'https://lichess.org/training/aUtdf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Auuc1', 'Rapid', 'harshwadhwa9', 1729, 'v2016', 1750, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,g6,Nc3,Bg7,Bd3,Nf6,Bg5,O-O,Qf3,Ne5,Qe2,d6,f4,Nxd3+,cxd3,Qb6,Rb1,Be6,Nd5,Nxd5,exd5,Bxd5,Nf3,Bxf3,Qxf3,f6,Bh4,e6,a3,d5,Bf2,Qa5+,b4,Qxa3,O-O,a6,Bc5,Rfc8,Qh3,b5,Qxe6+,Kh8,Ra1,Qxd3,Rxa6,Rab8,Bd6,Re8,Qd7,Rbd8,Qc6,f5,Be5,Rxe5,fxe5,Bxe5,Ra8', 'Bd4+,Kh1,Qxf1#', 'https://lichess.org/training/Auuc1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AUV0e', 'Rapid', 'a77med411', 1965, 'player10102', 1909, 'd4,d5,c4,c6,e3,Bf5,Nf3,e6,h3,Bd6,Nc3,Ne7,Nh4,Nd7,Nxf5,Nxf5,c5,Bc7,Bd2,Qh4,Be2,Nf6,Bf3,Ng3,fxg3,Bxg3+,Ke2,Bc7,Be1,Qg5,h4,Qg6,h5,Qg5,Bh4,Qf5,Rf1,Nxh5,Bxh5', 'Qxh5+,Kd3,Qxh4', 'https://lichess.org/training/AUV0e');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AUVbj', 'Rapid', 'ThunderBrain', 1790, 'ahmedshawky80', 1730, 'e4,e5,Nf3,Nf6,Bc4,Bc5,O-O,O-O,Nxe5,d6,Nxf7,Rxf7,Bxf7+,Kxf7,d3,Nc6,Bg5,h6,Bxf6,Qxf6,Nc3,Be6,Kh1,Nd4,f4,Kg8,f5,Bf7,Rb1,Bb4,a3,Ba5,b4,Bb6,Qd2,a6,Na4,Ba7,Nc3,b5,Ne2,Rc8,Nxd4,Bxd4,Rfc1,Ba2,c3,Bxb1,cxd4,Bxd3,Qxd3,Rd8,Rxc7,Qh4,Qb3+,Kh8,Qe3,Ra8,h3,Qf6,g4,Qd8,Qc3,Qg5,Qc6,Rg8,Qxd6,Qe3,Kh2,Qf2+,Kh1,Qf3+,Kg1,Qe3+,Kh2,Qf2+,Kh1,Qf1+,Kh2,Qf2+,Kh1,Qf1+,Kh2,Qf2+,Kh1,Qf3+,Kg1,Qe3+,Kf1,Qxh3+,Ke1,Qe3+,Kf1,Qh3+,Ke2,Qxg4+,Ke3,Qg1+,Kd3,Qd1+,Ke3,Qe1+,Kf4,Qf2+,Ke5,Re8+,Kd5,Qa2+,Kc6,Qc4+,Kb6,Rb8+,Ka5', 'Qb3,Rc8+,Rxc8', 'https://lichess.org/training/AUVbj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aux5M', 'Classical', 'Tchingizid', 1934, 'nechdmit', 1762, 'e4,e5,f4,d6,Nf3,Nc6,c3,Nf6,Bc4,Be6,Bxe6,fxe6,Qb3,Qc8,d3,Be7,Ng5,d5,f5,Nd8,O-O,O-O,fxe6,c6,Nd2,b6,exd5,Nxd5,Rxf8+,Bxf8,c4,Nc7,Ndf3,Ncxe6,Nxe5,c5,Ngf3,Kh8,Be3,Bd6,Qc3,Qc7,d4', 'cxd4,Nxd4,Bxe5', 'https://lichess.org/training/aux5M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('auxfQ', 'Rapid', 'taaghols', 1611, 'AlleywayJack', 1684, 'e4,c6,Nf3,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Ngf6,d4,e6,Nc3,Bd6,Be3,a6,Qd2,O-O,Bf4,Qb6,Bxd6,Qxd6,Rfe1,Rfe8,Ne5,h6,Nxd7,Qxd7,h3,Qd6,Re3,Rac8,Rg3,Rc4,Qxh6,g6,Rd1,Qb6,b3,Rxd4', 'Rxg6+,fxg6,Qxg6+,Kh8,Qxf6+', 'https://lichess.org/training/auxfQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aUxGN', 'Classical', 'Crusander', 1648, 'sirkmatija', 1603, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Nc3,d6,Bg5,Bg4,h3,Bxf3,Qxf3,Nd4,Qd1,h6,Bh4,g5,Bg3,Qe7,Qd2,O-O-O,a3,Nh5,O-O-O,Nxg3,fxg3,Rhf8,Nd5,Qd7,h4,c6,Nf6,Qe7,Rdf1,b5,Ba2,Rh8,Ng4,Rdf8,hxg5,hxg5,Rxh8,Rxh8,Rxf7', 'Rh1+,Qd1,Rxd1+', 'https://lichess.org/training/aUxGN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('auYcd', 'Rapid', 'schachma', 1639, 'GoodSushi', 1657, 'e4,e5,Bc4,Nf6,d3,c5,h3,Be7,Nc3,O-O,a3,Nc6,Nf3,d6,Bd2,a6,Rb1,b5,Ba2,Nd4,Nxd4,cxd4,Nd5,Nxd5,exd5,Re8,O-O,Bg5,Bxg5,Qxg5,Qf3,Bf5,Rbe1,h5,Qg3,Qxg3,fxg3,Bg6,b4,e4,dxe4,Bxe4,Rf4,Bxc2,Rxe8+,Rxe8,Rxd4,Re2,Kf1,Re3,Rd2,Bd3+', 'Kf2,Re8,Rxd3', 'https://lichess.org/training/auYcd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Auymg', 'Blitz', 'danka11', 1904, 'alhodhod', 2087, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,Qb6,Nf3,d6,Nc3,Bg4,Bb5,Bxf3,Bxc6+,bxc6,gxf3,Nf6,Qb3,Nd7,Be3,Qxb3,axb3,g6,Kd2,Bg7,Kc2,O-O,h4,h5,f4,e6,Ra6,Rfc8,Rha1,Rc7,f3,d5,e5,Bf8,Na4,Nb8,Ra5,Bb4', 'Nb6,Bxa5,Nxa8,Rb7,Rxa5', 'https://lichess.org/training/Auymg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('auZE2', 'Rapid', 'sandylala', 2056, 'Toine', 2005, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,Nxe4,d4,Nd6,Bxc6,dxc6,dxe5,Nf5,Qxd8+,Kxd8,Nbd2,h6,Ne4,Be6,Rd1+,Ke8,g4,Ne7,h3,b6,Nd4,Bd5,Nc3,h5,g5,Rd8,Be3,Be6,Nxe6,fxe6,Rxd8+,Kxd8,Rd1+,Kc8,Ne4,Nf5,Bf4,Be7,Ng3,Nh4,Ne4,Rf8,Bg3,Nf3+,Kg2,Bxg5,Nxg5,Nxg5,f4,Ne4,Kf3,Nxg3,Kxg3,g6,h4,Rd8,Rg1,Kd7,Kf3,Rg8,Ke4,Ke7,c3,Kf7,Rd1,Ke7,Rg1,a5,Rg2,c5,Kd3,Kf7,Kc4,Rd8,Kb5,Rd3,Kc6,Rh3,Kxc7,Rxh4,Kxb6,Rxf4,Kxc5,h4,Kd6,g5,Rxg5,h3,Rh5,Rf3,Rh7+,Kg6,Rh8,Kf5,Rh5+,Kg4,Rh8,Kg3,Kxe6,h2,Kd7,Rd3+,Kc6,Kg2,e6', 'Rh3,Rxh3,Kxh3,Kd6,h1=Q', 'https://lichess.org/training/auZE2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AuZGA', 'Blitz', 'Manawahla', 2001, 'TheStrikeBackMonkey', 2173, 'g3,c5,Nf3,g6,Bg2,Bg7,O-O,Nc6,d3,d6,Nbd2,e5,c4,Nge7,Ne4,O-O,Bg5,f6,Bd2,h6,a3,f5,Nc3,Be6,h3,a6,Rb1,Qd7,Kh2,Kh7,b4,Nd4,bxc5,dxc5,Rb6,Ndc6,Qb1,Rab8,Rd1,Nc8,Rb3,Nd6,Qa2,e4,Ne1,b5,Bf4,bxc4,Rxb8,cxd3,Qd2,Rxb8,exd3,Rb3,Na4,Bd4,dxe4,Nxe4,Bxe4,fxe4,Be3,Bxh3,Nxc5,Qg4,Bxd4,Bf1,Be3,Ne5,Nxb3,Qh3+,Kg1', 'Nf3+,Nxf3,Qg2#', 'https://lichess.org/training/AuZGA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Av0xO', 'Blitz', 'AngryPawnGrabber', 2000, 'theedza', 1981, 'd4,Nf6,Nf3,c5,d5,g6,c4,Bg7,Nc3,O-O,Bf4,d6,e3,b5,Nxb5,Nbd7,Qc2,Qa5+,Nc3,Rb8,Bd3,Ba6,O-O,Rfe8,h3,Qc7,Ne4,e5,Nxf6+,Nxf6,Bg5,e4,Bxf6,exd3,Qxd3,Bxf6,Rab1,Rxb2,Rxb2,Bxb2,Qb3,Bg7,Qa4,Qc8,Rb1,Rd8,Rb3,Bb7,Qxa7,Ba8,a4,Qd7', 'Qxd7,Rxd7,Rb8+,Bf8,Rxa8', 'https://lichess.org/training/Av0xO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('av2mr', 'Rapid', 'jovacy', 1973, 'Grotzmok', 2006, 'e4,e5,Nc3,Nf6,Bc4,Nxe4,Bxf7+,Kxf7,Nxe4,d5,Qf3+,Kg8,Nc3,Be6,Nge2,Nc6,O-O,Qd7,d3,Bg4,Qxd5+', 'Qxd5,Nxd5,Bxe2', 'https://lichess.org/training/av2mr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AV3Le', 'Bullet', 'vladgorn', 1824, 'unflat', 1854, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e6,Bd3,Be7,O-O,Nbd7,Kh1,O-O,f4,Nc5,Qf3,Qc7,Rac1,e5,fxe5,dxe5,Nf5,Be6,Nxe7+,Qxe7,Bg5,Ncd7,Rcd1,Rac8,Nd5,Bxd5,exd5,e4,Bxf6,Nxf6,Rfe1,Qb4,Bxe4,Nxe4,Rxe4,Qxb2,Rf1,Rxc2', 'Qxf7+,Rxf7,Re8+,Rf8,Rfxf8#', 'https://lichess.org/training/AV3Le');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('av4ay', 'Rapid', 'notakeback75', 1739, 'jitendra_chaturvedi', 1846, 'd4,d5,Nf3,Nf6,Nc3,Bf5,Nh4,Bg6,Nxg6,hxg6,Bd2,c5,e3,a6,Qf3,e6,O-O-O,Nc6,g4,cxd4,exd4,Nxd4,Qf4,Qb6,Be3,Bd6,Qxd4,Qc6,g5,Nd7,Qxg7', 'Be5,Qxe5,Nxe5', 'https://lichess.org/training/av4ay');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aV7O7', 'Classical', 'ProgrammerZihad', 1984, 'memmo67lichess', 1886, 'c4,e5,Nc3,Nc6,Nf3,Nf6,e3,Bb4,Qc2,O-O,d4,exd4,exd4,Re8+,Be2,d5,cxd5,Nxd5,O-O,Nxc3,bxc3,Bd6,Bg5,f6,Bh4,Bg4,Bc4+,Kh8,Qd3,Na5,Bd5,Bxh2+', 'Nxh2,Qxd5,Nxg4', 'https://lichess.org/training/aV7O7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Av88M', 'Bullet', 'ardid', 1845, 'MehranSarrafi', 1891, 'e4,c5,c3,d5,e5,d4,cxd4,cxd4,Bc4,Nc6,Bb5,Bd7,Bxc6,Bxc6,Nf3,e6,d3,Bb4+,Bd2,Bxd2+,Nbxd2,Ne7,O-O,Ng6,Nb3,Bxf3,Qxf3,Nxe5,Qe4,Nc6,Rac1,O-O,Rc4,e5,Rcc1,Re8,Nd2,Rc8,Nf3,f6,Nh4,Qd7,Nf5,Ne7,Nxe7+,Qxe7,b3,Qd7,Rc4,Rxc4,bxc4,b6,h4,b5,cxb5,Qxb5,Qf5,Qd5,h5,Qxa2,h6,Qe6,Qh5,g6,Qf3,f5,Rb1,e4,dxe4,Qxe4,Qd1,d3,Qb3+,Kh8,Qb7,Qe7', 'Qxe7,Rxe7,Rb8+,Re8,Rxe8#', 'https://lichess.org/training/Av88M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AV9TW', 'Blitz', 'MufflerCatnip', 1653, 'Willio', 1667, 'd4,d5,Bf4,Nf6,e3,Bf5,Nf3,e6,c3,Nbd7,Bd3,Bxd3,Qxd3,c5,b3,Rc8,Nbd2,Be7,Rc1,b6,Ne5,O-O,Ndf3,cxd4,exd4,Re8,h4,Nf8,h5,h6,g4,Bd6,g5,Bxe5,dxe5,Ne4,gxh6,gxh6,Rg1+,Kh8,Bxh6,Nd7,Ng5,Ndc5,Qh3,Qd7,Nxe4,Nxe4,Qg2,Rg8,Bg7+,Kh7,h6,Qb5,f4,Qd3,f5,Qe3+,Kd1,Nxc3+,Rxc3,Rxc3', 'Qg6+,fxg6,fxg6#', 'https://lichess.org/training/AV9TW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Avb2o', 'Rapid', 'Brainfight', 1671, 'Plugawy6', 1656, 'Nf3,g6,Nc3,Bg7,d4,h6,e4,b6,Bb5,Bb7,O-O,a6,Ba4,e6,d5,Ne7,dxe6,fxe6,Re1,Nbc6,Ne2,O-O,c3,Ne5,Nxe5,Bxe5,Bxh6,Rf7,Nd4,Nc6,Qg4,Nxd4,cxd4,Bxd4,e5,Bxf2+,Kh1,Bxe1', 'Qxg6+,Kh8,Qxf7', 'https://lichess.org/training/Avb2o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Avbeu', 'Rapid', 'vangelisfk', 1665, 'sandrusa123', 1731, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,Nf3,h6,Bxf6,Bxf6,e4,c6,e5,Be7,Qc2,Nd7,cxd5,cxd5,Bd3,a6,O-O,b5,Ne2,Nb6,Nf4,Bd7,Ng6,fxg6,Bxg6+,Kf8,Qd2,Be8,Qf4+,Kg8,Qg4,Bxg6,Qxg6,Qe8', 'Qxe6+,Kh7,Qxb6', 'https://lichess.org/training/Avbeu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('avbQy', 'Rapid', 'mandrake22', 1733, 'caaaaamXX', 1713, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bb4,Nd5,Nxe4,Nxb4,Nxb4,d3,Nf6,Nxe5,O-O,O-O,d6,Nf3,Bg4,h3,Bh5,a3,Nc6,Re1,Ne5,g4,Bg6,Nxe5,dxe5,Rxe5,Qd4,Re1,a6,Bg5,b5,Bxf6,Qxf6,Bd5,c6,Be4,Qxb2,Bxg6,fxg6,Re2,Rf3,c4,Qf6,Re6,Qxe6,Qxf3,bxc4,dxc4,Qxc4,Rd1,Rf8,Qg3,Qa4,Rd6,c5,Qd3,Qb5', 'Qd5+,Kh8,Rd8,Qb8,Rxb8', 'https://lichess.org/training/avbQy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aVbvB', 'Rapid', 'Ingien', 1675, 'Matthias6', 1702, 'c4,c5,Nc3,Nf6,e4,e5,Nf3,d6,h3,Nc6,Nd5,Nxd5,cxd5,Nd4,Nxd4,cxd4,Qa4+,Bd7,Qb4,a5,Qb3,Rb8,Be2,b5,d3,b4,Qd1,a4,f4,Qa5,Bd2,Qb5,f5,Be7,g4,Bh4+,Kf1,g5,fxg6,fxg6,g5,O-O+,Kg1,Rf2,Be1,Rf4,Bxh4,Rxh4,Qe1,Rxh3,Rxh3,Bxh3,Qh4,Qd7,Kh2,Rf8,Qxh3', 'Rf2+,Kg3,Qxh3+,Kxh3,Rxe2', 'https://lichess.org/training/aVbvB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AVc8a', 'Rapid', 'MagoArthur', 1823, 'Verdyyyyyyyyy', 1869, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e5,Nf5,Nf6,Bd3,Bxf5,exf5,d5,Bb5+,Nc6,Nc3,d4,Ne2', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/AVc8a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('avcY9', 'Blitz', 'mamon1', 1602, 'ngducphu', 1689, 'e4,e6,d3,d5,exd5,exd5,Nc3,Nf6,Bd2,Bc5,Qe2+,Be6,O-O-O,O-O,f3,d4,Ne4,Nxe4,dxe4,a5,Kb1,a4,g4,a3,b3,c6,Qg2,d3,Bxd3,Na6,h4,Nb4,Bxb4,Bxb4,f4,Qd4,c4,b5,Nf3,Qc3,f5,bxc4,fxe6,cxd3,Rc1,Qf6,g5,Qxe6,h5,Qxe4,Rh4,Qe7,g6,h6,Nd4,c5,Nf5,Qe5,Nxh6+,gxh6,gxf7+,Kh7', 'Qg6+,Kh8,Qxh6#', 'https://lichess.org/training/avcY9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('avDAG', 'Classical', 'chavelmalfet', 1694, 'Vanbasten1988', 1664, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Qf6,c3,Be7,e5,Qb6,Qxb6,axb6,b4,d6,f4,dxe5,fxe5,c5,Bb5+,Bd7,Bxd7+,Kxd7,b5,f6,O-O,fxe5,c4,Bf6,Nc3,Ne7,Ne4,Rhf8,Nxf6+,Rxf6,Rd1+,Ke8,Bb2,Ng6,a3,Rf4,Rac1,Ra4,Rd6,Raxc4,Rcd1,Rc2,Rd8+,Ke7,Ba1,Rff2,R8d7+,Ke6', 'R1d6+,Kf5,Rf7+,Ke4,Rxf2,Rc1+,Rf1', 'https://lichess.org/training/avDAG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aVeR2', 'Blitz', 'CM Kingscrusher-YouTube', 2261, 'scruddly', 1925, 'e4,Nf6,e5,Nd5,Nc3,Nxc3,dxc3,d6,Nf3,Nc6,Bb5,Bd7,exd6,cxd6,O-O,g6,Re1,Bg7,Bg5,h6,Bxc6,hxg5,Bxd7+,Qxd7,Nxg5,O-O,Qd2,Bf6,h4,Qf5,g3,Rfe8,Rad1,Rad8,Re2,Bxg5,hxg5,e5,Rde1,e4,c4,b6,b3,Re5,Qd4,Qxg5,Rxe4,Rxe4,Qxe4,Qd2,Re2,Qc1+,Kg2,Qg5,Qd4,Qc5,Qxc5,dxc5,Re7,Ra8,a4,Kf8,Rb7,Kg7,Kf3,Kf6,Ke4,Ke6,g4,f6,f4,Kd6,f5,g5,Rf7,Re8+,Kd3,Ke5,c3,Ra8,a5,bxa5,Rc7,Kf4,Rxc5,Kxg4,Rxa5,Kf4,c5,g4,c6,Kf3,Kc4,g3,Ra1,g2,b4,Kf2,b5,g1=Q,Rxg1,Kxg1,Kb4,Kf2,c4,Ke3,c5,Ke4', 'b6,axb6,cxb6', 'https://lichess.org/training/aVeR2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aVFIt', 'Blitz', 'Jan75', 1747, 'powerma8', 1751, 'e4,b6,Nf3,Bb7,d4,Bxe4,Bd3,Bb7,O-O,d6,c4,Nd7,d5,c5,Re1,f6,Nh4,Ne5,f4,Nxd3,Qxd3,Qd7,Nc3,a6,f5,O-O-O,a4,a5,Nb5,Kb8,Re6,Bc8,Bf4,Qb7,Rae1,Bxe6,Rxe6,Nh6,Bxh6,gxh6,g3,Qd7,b4,cxb4,Qe3,Kb7,Nf3,h5,Nfd4,Rg8,Nc6,Re8,Kf2,Rg4,h3,Rxc4,Nxa5+,bxa5', 'Qa7+,Kc8,Qa8#', 'https://lichess.org/training/aVFIt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AVfKM', 'Rapid', 'macutter', 1639, 'timusg', 1635, 'e4,e5,Nf3,d6,Nc3,Nf6,d4,Nc6,d5,Ne7,Bg5,c6,Bxf6,gxf6,Bc4,f5,Qd3,fxe4,Nxe4,cxd5,Bxd5,Nxd5,Qxd5,Bg7', 'Nxd6+,Qxd6,Qxd6', 'https://lichess.org/training/AVfKM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AVH0Z', 'Rapid', 'Dio1984', 1835, 'xabarin1960', 1828, 'd4,d5,Nf3,Nc6,Bf4,Bf5,c3,e6,e3,Nf6,Be2,h6,Nbd2,g5,Bg3,Qd7,Ne5,Nxe5,dxe5,Ne4,Nxe4,Bxe4,f3,Bg6,Qb3,c6,O-O-O,Qc7,h4,Qb6,hxg5,Qxb3,axb3,Bg7,e4,hxg5,exd5,exd5,Rxh8+,Bxh8,Bd3,Bxd3,Rxd3,O-O-O,f4,gxf4,Bxf4,Re8,Re3,Bg7,Kc2,Rh8,Kd3,Rh4,g3,Rh2,e6,fxe6,Rxe6,Kd7,Rd6+,Ke7,Rg6,Bh8,Rg8,Bf6,Rb8,b6,Rb7+,Ke6,Rxa7,Rxb2,Rc7,c5,Rc6+,Ke7,Rxb6,c4+,Ke3,Rxb3,Rd6,Rxc3+,Kd2,Rd3+,Ke2,Bb2,Rb6,Rb3,Rd6,Rd3,Rb6,Bf6,Rb7+,Ke6,Rb6+,Kf5,Bc7,Be5,g4+,Ke4,Re6,Re3+,Kd2,c3+,Kc2,Re2+,Kb3,Kd4,Bb6+,Kd3,Rh6,c2,Rh3+,Kd2,Ba5+,Kd1', 'Rh1+,Re1,Rxe1#', 'https://lichess.org/training/AVH0Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AVhK4', 'Rapid', 'uness001', 2001, 'PARAIBAJOAO', 1955, 'e4,b6,d4,Bb7,Nc3,e6,Bd3,Bb4,Ne2,Nf6,Bg5,h6,Bxf6,Qxf6,Qd2,Qg6,Ng3,O-O,a3,Bxc3,Qxc3,f5,exf5,exf5,Qxc7,Bxg2,Rg1,Be4,Bxe4,fxe4,Qb7,Nc6,Qxd7,Rfd8,Qf5,Qxf5,Nxf5,Nxd4,Rxg7+,Kh8,Rf7', 'Nxc2+,Ke2,Nxa1', 'https://lichess.org/training/AVhK4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aviBJ', 'Blitz', 'beegeebee', 1916, 'troyanovskiy_egor', 1909, 'd4,d5,c4,dxc4,e4,e5,d5,Nf6,Nc3,Bb4,Qa4+,Bd7,Qxb4,Na6,Qxc4,O-O,Bg5,h6,Bxf6,Qxf6,Nf3,b5,Qb3,b4,Nd1,Nc5,Qe3,Nb7,Ba6,Qxa6,Qe2,Bb5,Qe3,Nd6,b3,Rfe8,Nb2,c6,Nd2,cxd5,exd5,Nf5,Qe4,Nd4,Ndc4,f5,Qb1,e4,O-O,Nf3+,gxf3,exf3,Kh1,Re4,Rg1,Rae8,Qd1,Bxc4,Nxc4,Rf4,Qd2,Ree4,Rae1,Qf6,Rxe4,fxe4,d6,Rh4,d7', 'Rxh2+,Kxh2,Qh4#', 'https://lichess.org/training/aviBJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AVjJR', 'Rapid', 'Alex6153', 1892, 'baddaoui1991', 1869, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nc3,Nf6,Be2,Bb4,Nxc6,Bxc3+,bxc3,bxc6,O-O,Nxe4,Qd4,d5,Qxg7,Rf8,Bh6,Qe7,Qxh7,Nxc3,Bxf8', 'Nxe2+,Kh1,Qxf8,Qd3,Nf4', 'https://lichess.org/training/AVjJR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AVJv6', 'Rapid', 'niespodziany', 1769, 'poojashree', 1795, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Qb6,Nb3,e5,Be3,Qc7,Nc3,a6,Nd5,Qd6,Bc5,Qb8,Bxf8,Kxf8,Nb6,Ra7,Nxc8,Qxc8,Qd6+,Nge7,Nc5,Ke8,Rd1,b6,Nxa6,Rxa6,Bxa6,Qxa6', 'Qxd7+,Kf8,Qd8+,Nxd8,Rxd8#', 'https://lichess.org/training/AVJv6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AvK7s', 'Rapid', 'm_p_chess', 1980, 'sam1985', 1938, 'Nf3,d5,d4,Nf6,Nc3,g6,Bf4,a6,h4,Bg7,Qd2,h5,O-O-O,O-O,Ne5,Nbd7,f3,Re8,g4,Nf8,gxh5,Nxh5,Bh6,b5,Bxg7,Kxg7,Ng4,Bb7,Qh6+,Kg8,Rg1,Qd6,Qxh5,gxh5', 'Nf6+,Kh8,Rg8#', 'https://lichess.org/training/AvK7s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AVkKf', 'Rapid', 'siruse', 1617, 'DGAllan', 1825, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d6,h3,h6,O-O,Nf6,Re1,Be7,c3,O-O,d4,b5,Bc2,Nh7,Be3,Ng5,Nxg5,Bxg5,a4,Bb7,d5,Bxe3,Rxe3,Ne7,Qd3,bxa4,Bxa4,Ng6,g3,Qg5,Kh2,Bc8,Nd2,Qh5,Qf1,f5,exf5,Bxf5,Nf3,Bg4,Nh4,Nxh4,gxh4,Qxh4,Rg3,Bh5,Qg2,Rf7,Bc2,Raf8,Rf1,Be2,Re1,Rxf2', 'Rxg7+,Kh8,Rh7#', 'https://lichess.org/training/AVkKf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('avKMX', 'Blitz', 'Eder_Soares', 1624, 'Nabbi', 1662, 'd4,d5,c4,c6,Nc3,Bf5,g3,e6,Bg2,Nf6,Nf3,Bb4,O-O,Bxc3,bxc3,dxc4,Bg5,h6,Bd2,Nd5,Ne5,Nd7,e4,Nxe5,dxe5,Nxc3,Bxc3,Qxd1,Rfxd1,Bg6,Rab1,b5,a4,a6,f4,O-O,Rd6,Rfc8,axb5,cxb5,f5,exf5,exf5,Bxf5,Rf1,Bd3,Rf2,Ra7,e6,fxe6,Rxe6,Rcc7,Rd6,a5,Rd8+,Kh7,Rff8,b4,Rxd3,cxd3', 'Be4+,g6,Rh8#', 'https://lichess.org/training/avKMX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aVmW8', 'Rapid', 'MAN000', 1718, 'DarkPraiser', 1752, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,Bd3,Bxd3,Qxd3,Ne7,Bg5,Qb6,Bxe7,Bxe7,b3,Nd7,Nbd2,O-O,O-O,c5,c3,cxd4,cxd4,Rac8,Rac1,Rc6,a4,Rfc8,Qb1,Rxc1,Rxc1,Rc6,Rxc6,bxc6,g3,c5,dxc5,Bxc5,Qe1,a5,Kg2,Bb4,Qe2,Nc5,Qb5,Qxb5,axb5,Kf8,Kf1,h6,Ke2,Ke7,Ke3,Kd7,Nd4,a4,bxa4,Nxa4,N2b3,Bc5,Nxc5+,Nxc5,g4,f6,f4,fxe5,fxe5,g6,Nf3,Kc7,Nd4,Kb6,Kd2,g5,Kc3,Ne4+,Kb4,Nf2,Nxe6,Nxg4,h4,gxh4,Nf4,d4,e6,Nf6,e7,h5,Nxh5,Nd5+,Kc4,Nxe7,Kxd4,h3,Ke3', 'h2,Ng3,Nf5+,Nxf5,h1=Q', 'https://lichess.org/training/aVmW8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aVn3r', 'Rapid', 'Phobos2000', 1764, 'ItayMeir', 1766, 'e4,c5,Bc4,e6,Nc3,Nc6,d3,Nge7,Nf3,d5,exd5,exd5,Bb5,g6,Ne5,Qc7,Qf3,Qxe5+,Be3,d4,O-O,dxe3,Rfe1,exf2+,Kxf2,Qc7,Nd5,Qd7', 'Nf6+,Kd8,Nxd7', 'https://lichess.org/training/aVn3r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('avnxU', 'Rapid', 'MR_ANU', 1728, 'OgoidAzuos', 1684, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,e6,d4,Nf6,Bd3,Be7,h3,Qc7,c3,b6,a3,Bb7,O-O,c5,dxc5,Nxe4,cxb6,axb6,Bb5+,Bc6,Bxc6+,Nxc6,Qd3,Nc5,Qb5,Ra5,Qe2,Nb3,Rb1,Kf8,Be3,Bf6,Qc2,Nc5', 'b4,Ra8,bxc5', 'https://lichess.org/training/avnxU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AVoJ7', 'Rapid', 'MrMano', 1676, 'eddybt', 1737, 'e4,b6,d4,Bb7,e5,e6,Nf3,d6,Bd3,Nd7,O-O,Be7,Re1,dxe5,dxe5,g5,Nc3,g4,Nd4,h5,g3,Nxe5,Rxe5,Bf6,Nxe6,fxe6,Rxe6+,Kf8,b3', 'Bxc3,Ba3+,c5', 'https://lichess.org/training/AVoJ7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aVOYk', 'Classical', 'Mobyverulam', 1713, 'wizmazter', 1892, 'e4,c5,Nf3,d6,Bc4,e6,Nc3,a6,a4,Be7,d3,h6,d4,Bd7,Be3,cxd4,Bxd4,e5,Be3,Qc7,Bb3,Nf6,Nd5,Nxd5,Bxd5,Bc6,c4,Nd7,O-O,O-O,b3,Kh8,Rc1,b6,Qd2,Nc5,Bxc5,bxc5,Ne1,f5,Qd3,fxe4,Bxe4,Bg5,Rd1,Rad8,Nf3,Bxe4,Qxe4,Be7,g3,Qc8,Nh4,Bxh4,Qxh4,Qe6,f4,e4,Rf2,e3,Re2,Qe4,Rde1,Rde8,Rxe3', 'Qd4,f5,Rxe3', 'https://lichess.org/training/aVOYk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aVQWY', 'Rapid', 'kamilaga', 1755, 'richard0', 1852, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,O-O,Nf6,Nc3,d6,h3,g5,Nh2,Rg8,Nd5,g4,Nxf6+,Qxf6,hxg4,Qh4,Qf3,f6,Be3,Nd4,Bxd4,Bxd4,Bxg8,Bd7,c3,Bb6,Bh7,O-O-O,Bf5,Bxf5,gxf5,Kb8,Ng4,Rg8,g3,Qh3,Nxf6', 'Rxg3+,Qxg3,Qxg3+', 'https://lichess.org/training/aVQWY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aVS1y', 'Rapid', 'pochochon', 1879, 'knight111', 2128, 'd4,d5,e3,Nc6,f4,Bf5,c3,Nf6,Qb3,Na5,Qa4+,Nc6,Nf3,Qd7,Bb5,a6,Ne5,axb5,Qxa8+,Qc8,Qa3,Nxe5,fxe5,Ne4,Nd2,e6,Qb3,c6,a4,Nxd2,Bxd2,Bd3,axb5,Bxb5,Qc2,Be7,b3,f6,c4,dxc4,bxc4,Ba6,O-O,O-O,exf6,Bxf6,Bb4,Re8,Rfe1,Qd7,Rad1,Qf7,Bd6,Qh5,e4,Bh4,g3,Bg5,Bf4,Bxf4,gxf4,Qg4+,Qg2,Qxf4,Rc1,Rd8,d5,exd5,exd5,cxd5,cxd5,Qd4+,Kh1,Qxd5,Qxd5+,Rxd5,Re7,Kf8,Rcc7,Rg5,Rf7+,Kg8,Rfd7,h6,h3,Be2,Kh2,Bf3,h4,Rg4,Kh3,h5,Rc5,Rg6,Rd8+,Kh7,Rb5,Bg2+,Kh2,Bf3,Kh3,Rg1,Rg5,Bg4+,Kh2,Rb1,Rf8,Rb2+,Kg3,Rb3+,Kf4', 'Rf3+,Ke4,Rxf8', 'https://lichess.org/training/aVS1y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AVSqZ', 'Rapid', 'pankr', 1765, 'wow888', 1852, 'd4,d5,Bf4,Bf5,e3,Nc6,a3,g6,h3,Nf6,Nf3,Bg7,Nc3,O-O,Nb5,Rc8,g4,Bd7,Nc3,e6,Bd3,a6,Ne5,Nxe5,dxe5,Ne8,h4,c5,h5,Qc7,hxg6,fxg6,g5,Bxe5,Bxe5,Qxe5,Qd2,Qxg5,O-O-O,c4,Bf1,Bc6,f4,Qf5,Bh3,Qf6,Qh2,Rf7,Ne2,Nd6,Nd4,Nf5,Nxc6,bxc6,c3,Nxe3,Rde1,Nf5,Re2,Re7,Rhe1,Rce8,Rg1,c5,Qf2,d4,cxd4,Qxd4,Qe1,Qxf4+,Kb1,Nd4,Rf2,Qh4', 'Rf8+,Rxf8,Qxh4', 'https://lichess.org/training/AVSqZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aVtN6', 'Rapid', 'Alex_Jikai', 1625, 'Sta-s', 1659, 'd4,c6,Nf3,d5,e3,Bg4,Be2,Nf6,Ne5,Bxe2,Qxe2,Nbd7,Nd3,e6,O-O,c5,dxc5,Nxc5,Nxc5,Bxc5,Qb5+,Nd7,b4,Bb6,Bb2,a5,Bxg7,Rg8,Bd4,Bxd4,exd4,axb4,Nd2', 'Qg5,g3,Qxd2', 'https://lichess.org/training/aVtN6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aVunL', 'Blitz', 'Weasel01', 1888, 'MigueloA', 1623, 'e4,c6,Bc4,d5,Bb3,dxe4,Qh5,e6,Nc3,Nf6,Qh4,Bb4,Nxe4,Nxe4,Qxe4,a5,c3,Be7,d4,Nd7,Nf3,Nf6,Qd3,b5,Bc2,Ba6,Ne5,b4,Qh3,c5,Be3,bxc3,bxc3,cxd4,Ba4+,Kf8,Bxd4,Nd5,Qh5,g6,Nxg6+,fxg6', 'Qh6+,Kf7,Qg7#', 'https://lichess.org/training/aVunL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AVUrP', 'Rapid', 'Mkkm', 1613, 'insumX', 1685, 'd4,d5,Nf3,c6,e3,Bg4,h3,Bh5,Nc3,e6,Bd3,Bb4,Bd2,Qf6,Qe2,Bxf3,gxf3,Ne7,Rg1,Nd7,O-O-O,c5,Nb5,Bxd2+,Rxd2,O-O,f4,a6,Nd6,c4,Bxh7+,Kxh7,Qh5+,Kg8,f3,b5,Rdg2,Ng6,f5,exf5,Nxf5,Rfe8', 'Rxg6,fxg6,Rxg6', 'https://lichess.org/training/AVUrP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AVVZG', 'Rapid', 'bartic', 1881, 'Dael74', 1710, 'd4,d5,Nf3,Nf6,Bf4,e6,c4,c5,Nc3,cxd4,Nxd4,Bb4,Qa4+,Nc6,Nxc6,Bxc3+,bxc3,bxc6,Qxc6+,Bd7,Qd6,Ne4,Qe5,f6,Qh5+,g6,Qf3,Qb6,g3,Rb8,Bg2', 'Qb1+,Bc1,Qxa1', 'https://lichess.org/training/AVVZG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AvYW1', 'Rapid', 'XCLobster776', 2068, 'IgoR-NiKo', 2059, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,Bc5,O-O,d6,c3,Bg4,h3,Bh5,a4,Rb8,axb5,axb5,Bg5,h6,Bh4,g5,Bg3,Qd7,Nbd2,g4,hxg4,Bxg4,Qc2,Nh5,Bh2,Nf6,d4,exd4,cxd4,Nxd4,Nxd4,Bxd4,Qd3,Bxb2,Ra7,Qc6,Rb1,Qc3,Qxc3,Bxc3,Rc1,Bxd2,Rcxc7,Bh5,Re7+,Kf8,Bxd6,Kg7,Bxb8,Rxb8,Bxf7,Bxf7,Rxf7+,Kg6,e5,Ne4,f4', 'Be3+,Kh2,Bxa7', 'https://lichess.org/training/AvYW1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aVZDj', 'Rapid', 'alex4747', 2082, 'jiu08', 1721, 'e4,e5,d4,d6,Nf3,Bg4,dxe5,h6,Bc4,Nc6,exd6,Bxd6,Nc3,Nf6,h3,Bh5,Be2,Qe7,Nd5,Qxe4,Nxf6+,gxf6,Be3,O-O-O,Qd3', 'Bb4+,Kf1,Rxd3', 'https://lichess.org/training/aVZDj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Aw07c', 'Blitz', 'jlambert88', 1715, 'daiel30', 1853, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,Be2,Nc6,O-O,Bg4,Nd4,Nxd4,Bxg4,e6,Bf3,O-O-O,d3,Bd6,Bd2,Qe5,g3,h5,Re1,Qf5,Kg2,g5,Be3,Nxf3,Qxf3,Qg6,Bxa7,g4,Qe3,h4,Bd4,hxg3,hxg3,Rh3,Rh1,Rdh8,Bxf6,Qxf6,Rxh3,Rxh3,Rh1,Bc5,Qxc5', 'Qf3+,Kf1,Rxh1#', 'https://lichess.org/training/Aw07c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aw2vx', 'Rapid', 'victor0403', 1672, 'Chesswelder', 1756, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Bd2,Nc6,Nb5,Qb6,Be3,Nd5,Qd2,Nxe3,fxe3,a6,Nc3,Qa5,Bd3,Bg4,Nge2,O-O-O,O-O,e5,a3,exd4,exd4,Bxe2,Bxe2,Nxd4,Bd3,Bc5,Kh1,f6', 'b4,Bxb4,axb4', 'https://lichess.org/training/aw2vx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Aw5fI', 'Blitz', 'monujbaruah', 2131, 'Mahdi_sbr17', 2145, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Nc3,Nc6,Nxc6,bxc6,Bc4,e6,O-O,d5,exd5,cxd5,Nxd5,exd5,Bxd5,Be6,Re1,Ne7,Bxa8,Qxa8,Qd6,Qb7,Bg5,h6,Bh4,g5,Bg3,O-O,Rxe6,fxe6,Qxe6+,Kh8,Bd6,Qxb2,Re1,Qxc2,Qxe7', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/Aw5fI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AW6FU', 'Blitz', 'hugooool', 1643, 'joseph_friend', 1655, 'd4,d5,c4,dxc4,e4,e5,d5,c6,Bxc4,Qa5+,Bd2,Bb4,dxc6,Nxc6,Nf3,Bg4,Qb3,O-O-O,Bxb4,Qxb4+,Nc3,Bxf3,gxf3,Qxb3,axb3,Nd4,Rxa7,Nxf3+,Ke2,Nd4+,Ke3,Nf6,Rha1,Nc2+,Kf3,Nxa1,Rxa1,Rd2,Ra8+,Kd7,Rxh8,Rxb2,Nd5,Nh5,Rxh7,g6,Rxf7+,Kc6,Re7,b5,Nb4+,Kd6,Re6+,Kc7,Bd5,Ng7,Rxg6,Ne8,Re6,Rc2,Rxe5,Rc3+,Kg2,Nf6,Re7+,Kd8,Nc6+,Kc8,Nb4,Nh5,Rb7', 'Nf4+,Kf1,Rc1#', 'https://lichess.org/training/AW6FU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Aw6nh', 'Classical', 'Avinash-Pathak', 1842, 'SnatchPato', 2011, 'e4,c5,Bc4,Nc6,Nf3,e6,O-O,a6,d4,cxd4,Nxd4,Qc7,Nxc6,bxc6,Bd3,d5,f4,Nf6,e5,Nd7,Kh1,c5,c3,Bb7,Qe2,Rd8,Be3,Be7,Nd2,h5,Rab1,h4,Qg4,g6,h3,Rh5,Bxg6,Rh8,Bh5,Nb6,f5,Qxe5,Rbe1,Qg3,fxe6,d4,Bxf7+,Kf8,Qxg3,hxg3,cxd4,cxd4,Bf4,Rxh3+,Kg1,Rh2,Re2', 'd3,Bxg3,dxe2', 'https://lichess.org/training/Aw6nh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aW6SH', 'Rapid', 'ELCHACAL', 2039, 'brian_27', 1987, 'e4,c5,Nf3,g6,Bc4,e6,O-O,d5,exd5,exd5,Re1+,Ne7,Bb5+,Bd7,Bxd7+,Qxd7,d4,cxd4,Nxd4,Nc6,Nc3,Bg7,Nxc6,bxc6,Bg5,f6,Be3,O-O,Bc5,Rfe8,Qf3,Nf5,Red1,Nd6,Na4,Ne4,c3,f5,Bd4,Bxd4,cxd4,Rac8,b4,Qb7,a3,Qb5,Nc5,Nxc5,bxc5,Re4,Qd3,Qxd3,Rxd3,Rb8,g3,Rb2,Rf1,Ree2,Kg2,Kf7,Kf3,g5,h3,h5,Re3,g4+,hxg4,hxg4+,Kf4,Rxf2+,Rxf2,Rxf2+,Ke5,Rf3,Re1,Kg6,Kd6,Rxg3,Kxc6,f4,Kxd5,f3,c6,f2,Rf1,Rf3,c7,Rf8', 'Rxf2,Rxf2,c8=Q', 'https://lichess.org/training/aW6SH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AW8b4', 'Rapid', 'jose223', 1743, 'Remisero', 1799, 'e4,e6,d4,Qe7,c4,c6,Nf3,d5,exd5,cxd5,c5,b6,b4,Nc6,Bb5,Bd7,a3,g6,Bg5,Nf6,O-O,Bg7,Nc3,O-O,Qd2,Qe8,Bh6,Ne4,Nxe4,dxe4,Bxg7,Kxg7,Ne1,bxc5,dxc5,a6,Ba4,Nb8,Bb3,Bb5,Qd4+,Kg8,Bc4,Qc6,Bxb5,axb5,Nc2,Na6,Rfe1,f5,Ne3,Rad8,Qe5,Nc7,Red1,Nd5,Nxd5,Rxd5,Rxd5,Qxd5,Qc7,Qd4,Rf1,e3,fxe3,Qxe3+,Kh1,Qe2,Rg1,e5,c6,e4,Qd6,Qc4,c7,e3,Qd8,e2,Qe7,Rc8', 'Qd8+,Rxd8,cxd8=Q+', 'https://lichess.org/training/AW8b4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aWB0E', 'Blitz', 'kyanam', 1696, 'Rqmo', 1587, 'd4,d5,Nf3,c5,g3,Nc6,Bg2,Bf5,O-O,e6,Nc3,a6,Nd2,Nf6,e4,dxe4,Bxe4,Nxe4,Ncxe4,cxd4,f4,h5,Nf2,h4,Nf3,hxg3,hxg3,Qf6,Re1,Qg6,Kg2,Bh3+,Nxh3,Qh5,Rh1,Qd5,c3,O-O-O,cxd4,Nxd4,Be3,Bc5,Rc1,Kb8,Bxd4,Bxd4,Ng5,Rxh1,Qxh1,Bxb2,Rb1,Qxa2,Nxf7,Bd4+,Kh3,Rf8,Nxd4,Rxf7,Nc6+,Ka8,Nd8,Rd7,Nxb7,Rd5,Nd8,Ka7,Qc1', 'Rh5+,Kg4,Qe2#', 'https://lichess.org/training/aWB0E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aWBMB', 'Classical', 'warum', 1742, 'VitoCorleone88', 1741, 'd4,Nf6,c4,e6,a3,c5,Nf3,cxd4,Qxd4,Nc6,Qd1,d5,Nc3,dxc4,Qxd8+,Nxd8,e3,a6,Bxc4,b5,Be2,Bb7,O-O,Nc6,Bd2,Na5,Nd4,Bc5,b4,Bxd4,bxa5,Be5,Rac1,O-O,Nb1,Rfd8,Bb4,Nd5,Bc5,Rac8,Bf3,Bc7,Bxd5,Bxd5,Bb4,Be5,f4,Bb2,Rxc8,Rxc8,Rd1,Bc1,Nd2,g6,Kf2,Rc2,Kg3,Ra2,Nb1,Bxe3,Nc3,Rd2', 'Rxd2,Bxd2,Nxd5,exd5,Bxd2', 'https://lichess.org/training/aWBMB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aWCJD', 'Rapid', 'ptamber', 1738, 'DemocrasiQQ', 1798, 'd4,d5,c4,e6,cxd5,exd5,a3,c5,Nf3,Bf5,e3,Nc6,Nc3,Nf6,Bb5,a6,Bxc6+,bxc6,Ne5,Qc7,Qa4,Bd7,O-O,Bd6,f4,cxd4,Qxd4,c5,Qd2,Bxe5,Nxd5,Nxd5,Qxd5,Bc6,Qxc5,Bd6,Qg5,O-O,b4,h6,Qg3,a5,Bb2,f6,Rac1,Qb6,Rfd1,Be7,Bd4,Qb7,bxa5,Rxa5,Rb1,Qc7', 'Bb6,Qc8,Bxa5', 'https://lichess.org/training/aWCJD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aWdgF', 'Rapid', 'toadyisgroady', 1883, 'Dark_Knight4', 1927, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e5,Nf5,Bxf5,exf5,Nbd7,Ne4,h6,Bh4,Qa5+,c3,Nxe4,Bc4,Nxc3,Bxf7+,Kxf7,Qb3+,Ke8', 'Qe6+,Be7,Qxe7#', 'https://lichess.org/training/aWdgF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('awdgL', 'Rapid', 'WilKellermanChess', 2328, 'hammoudini', 2334, 'e4,c5,c3,g6,Nf3,Bg7,d4,cxd4,cxd4,d5,e5,Bg4,Be2,e6,O-O,Bxf3,Bxf3,Nc6,Nc3,Nge7,Be3,O-O,Qd2,Nf5,Rac1,Nxe3,fxe3,Qb6,b3,Bh6,Qf2,Nxe5,Na4,Nxf3+,Qxf3,Qa5,Nc5,Qd2,Rce1,Rad8,Nxb7,Rd7,Nc5,Rc7,Re2,Qa5,Qh3,Bg7,Ref2,e5,Ne6,exd4,Nxf8,dxe3,Qxe3,Bxf8,Qe8,Qc5,h4,h5,Kh1,Qd4,Qd8,Re7,Rf4,Qe5,Rf6,Re8,Qd7,Re7,Qd8,Re8,Qd7,Re7,Qc8,Re8,Qb7,Re7,Qa8,Qg3,Qxd5,Qxh4+,Kg1,Rc7,Rxg6+,Kh7,Rxf7+,Kxg6,Qf5+,Kh6,Rf6+,Kg7,Rg6+,Kh8', 'Qxf8+,Kh7,Rh6#', 'https://lichess.org/training/awdgL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AwDwa', 'Blitz', 'ganbaga07', 1938, 'mmaatt2', 1971, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,Nf6,O-O,Nxe4,Re1,Nc5,Nxe5,Nxe5,Rxe5+,Ne6,Qf3,Rb8,d4,Bb7,d5,Qf6,dxe6,Bxf3', 'exf7+,Kd8,Re8#', 'https://lichess.org/training/AwDwa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Awefj', 'Blitz', 'NM panpeter365', 2136, 'Mihailopusara', 2108, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,c4,e5,Nc3,Nf6,O-O,g6,d3,Bg7,Bg5,O-O,Qd2,Nc6,h3,a6,Bh6,Rab8,Rab1,b5,b3,b4,Nd5,Nxd5,exd5,Nd4,Nxd4,exd4,Bxg7,Kxg7,Rbe1,Rfe8,g4,Re5,f4,Ree8,f5,Re5,f6+,Kh8,Qh6,Rg8,Rxe5,dxe5,Re1,Qe8,Qg5,a5,Rxe5,Qd8,Re7,a4,Rxf7,axb3,Rxh7+,Kxh7', 'Qh4#', 'https://lichess.org/training/Awefj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AweId', 'Classical', 'hema3', 1682, 'max_mudry', 1867, 'e4,Nc6,Bc4,e5,Qh5,g6,Qf3,Nf6,c3,d6,d3,Bg7,Nh3,Bg4,Qg3,h6,f3,Bh5,f4,Ng4,fxe5,dxe5,Nf2,Bf6,Nxg4,Bh4,Qxh4,Qxh4+,Nf2,a6,g3,Qe7,g4,Bxg4,Nxg4,O-O-O,Rf1,Qh4+,Nf2,Rhf8,b3,b5,Bd5,Ne7,Ba3,c6,Bxc6,Nxc6,Bxf8,Rxf8,Nd2,f5,O-O-O,f4,Nf3,Qh5,Nh1,g5,d4,Rd8,d5,Na7,Nxe5,Qe8,Ng4,h5,Nf6,Qg6,e5,Kb8,d6,Nc6,d7,Nxe5,Rd6,Nxd7', 'Nxd7+,Rxd7,Rxg6', 'https://lichess.org/training/AweId');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aWGDR', 'Blitz', 'calculatedrisk', 1867, 'Nexar', 1876, 'd4,d5,c4,e6,Nc3,Nf6,Bf4,Bd6,Bxd6,Qxd6,c5,Qe7,Nf3,b6,e3,bxc5,dxc5,Qxc5,Bd3,O-O,O-O,a5,Rc1,Qb4,Qc2,Ba6,Bxa6,Nxa6,a3,Qb6,Na4,Qb5,Nd4,Qd7,Nc5,Qe7,Nxa6,Rxa6,Qxc7,Qxc7,Rxc7,h6,h3,Rb8,Rb1,Rab6,Rc5,Rxb2,Rxb2,Rxb2,Rxa5,Nd7,Ra8+,Kh7,Ra7,Nc5,Rxf7,Ra2,Rc7,Nd3,Nxe6,Rxa3,Nxg7,Ra1+,Kh2,Nxf2,Nf5+,Kg6,Nd4,h5,Rc5', 'Rh1+,Kg3,Ne4+,Kh4,Nxc5', 'https://lichess.org/training/aWGDR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aWGQn', 'Rapid', 'Elsebeth77', 1692, 'JohnIRoa', 1675, 'e4,e5,Nc3,Nc6,Bc4,Bc5,Qg4,g6,Qd1,Qf6,Nf3,d6,Nd5,Qd8,O-O,Bg4,h3,Bh5,d3,Nd4,g4,c6,Nc3,Qf6,Nxd4,Bxd4,Ne2,Bxg4,hxg4,Bc5,Be3,Qh4,Ng3,Nf6,Qf3,O-O,Bxc5,dxc5,Kg2,Nxg4,Rh1,Qg5,Rh3,h5,Rah1,Kg7,Kf1,Qc1+,Kg2,Qg5,Rxh5,gxh5,Rxh5,Qg6,Rh1,Nh6,Kf1,Rh8,Nh5+,Kf8,Rg1,Qd6,Qf6,Qxf6,Nxf6,Ke7,Nh5,Rag8,Ng3,a5,a4,Rg6,Rh1,Rhg8', 'Rxh6,Rxh6,Nf5+,Kf6,Nxh6', 'https://lichess.org/training/aWGQn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AwHJ6', 'Rapid', 'mamburu', 1846, 'Ybelskiy', 1736, 'e4,e6,Nf3,b6,d4,Bb7,Nc3,Bb4,Bd3,h6,Bd2,Nf6,a3,Bxc3,bxc3,Nxe4,O-O,Ng5,Nxg5,hxg5,Qe2,Qf6,Qg4,Qh6,h3,f6,Rfe1,Qh5', 'Qxh5+,Rxh5,Bg6+,Ke7,Bxh5', 'https://lichess.org/training/AwHJ6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Awia6', 'Classical', 'layoma2003', 1927, 'sutek001', 2022, 'd4,d5,Nf3,Nf6,Bf4,Bf5,e3,e6,c4,c6,Nbd2,Nbd7,cxd5,cxd5,Bb5,a6,Bxd7+,Qxd7,O-O,Bd6,Bxd6,Qxd6,Ne5,O-O,Qb3,Nd7,Ndf3,f6,Nxd7,Qxd7,Rac1,Rac8,Nh4,Be4,f3,Bg6,Nxg6,hxg6,Qb6,Kf7,g4,Rxc1,Rxc1,Rc8,Rc5,Rc6,Rxc6,Qxc6,Qxc6,bxc6,b4,Ke7,Kf2,Kd7,f4,Kc7,h4,Kb6,a4,a5,bxa5+,Kxa5,g5,Kxa4,Kg3,Kb4,Kg4,c5,dxc5,Kxc5,h5,d4,exd4+,Kxd4,gxf6', 'gxh5+,Kg5,gxf6+', 'https://lichess.org/training/Awia6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AwjCF', 'Rapid', 'Kittu2020', 1621, 'Tapase', 1676, 'd4,Nf6,Bf4,g6,Nf3,Bg7,Nbd2,O-O,e4,d5,e5,Nh5,Be3,Bh8,h3,Be6,Ng5,Ng7,Be2,Nd7,Nb3,Rc8,Nxe6,Nxe6,g4,c5,dxc5,Ndxc5,f4,Ne4,Bd3,a6,Qf3,N6c5,Nxc5,Nxc5,Bxc5,Rxc5,b4,Rc3,O-O,e6,Qf2,Qc7,Rab1,f6,exf6,Rxf6,Kg2,Qf7,Qe3,Rc8,Rf3,Rf8,Rbf1,Qc7,g5,R6f7,Qxe6,Qd8,Qe3,Re8,Qd2,Qc7,R1f2,Bc3,Qd1', 'Re1,Qxe1,Bxe1', 'https://lichess.org/training/AwjCF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AwmlC', 'Classical', 'MWANDILA', 1725, 'Paul_com', 1734, 'Nc3,Nf6,d3,h6,Nf3,Nc6,e3,d5,d4,a6,Bd3,Bg4,O-O,h5,e4,dxe4,Bxe4,Nxe4,Nxe4,Nxd4', 'Qxd4,Qxd4,Nxd4', 'https://lichess.org/training/AwmlC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AwnbT', 'Rapid', 'jgsales', 1734, 'KOT_MATPOC', 1832, 'd4,d5,c4,c6,Nf3,Bf5,e3,e6,Nc3,Nf6,Nh4,Bg6,Nxg6,hxg6,Bd2,Nbd7,Rc1,Be7,h3,O-O,Bd3,c5,cxd5,Nxd5,Nxd5,exd5,Bc3,c4,Bc2,f5,g4,fxg4,Qxg4,Bh4,Qxg6,Bxf2+,Ke2,Qh4,Qe6+,Rf7,Bg6,Rf8,Qxd5,Nf6,Qxc4,Ne4,Bb4,Qg3,Qxf7+,Rxf7', 'Rc8+,Rf8,Rxf8#', 'https://lichess.org/training/AwnbT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('awoDo', 'Rapid', 'ZLK', 1628, 'fiore', 1607, 'e4,c5,Nf3,Nc6,c3,a6,d4,cxd4,cxd4,e6,Nc3,Nf6,Bd3,h5,Bf4,Nb4,a3,Nxd3+,Qxd3,h4,Bg5,h3,gxh3,Rxh3,e5,Qb6,exf6,gxf6,Bc1,Qc6,d5,Qd6,Qe4,f5,Qe2,b5,Ne5,Bb7,Rg1,Bxd5,Nxd5,Qxd5,Bf4,Rh4,Bg3', 'Re4,f3,Rxe2+', 'https://lichess.org/training/awoDo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AWohz', 'Rapid', 'erick1314', 1816, 'georgh', 1676, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,Bc5,h3,O-O,O-O,d6,Bg5,a6,Ba4,b5,Bb3,Na5,Nc3,Nxb3,axb3,c6,Ne2,Be6,b4,Bb6,Ng3,Bc7,c3,d5,Re1,d4,Nxe5,Bxe5,f4,Bc7,e5,h6,Bh4,g5,fxg5,dxc3,gxh6,Qd4+,Re3,Qxe3+,Kh1,Qxe5,Bxf6,Qxg3', 'h7+,Kxh7,Qh5+,Kg8,Qh8#', 'https://lichess.org/training/AWohz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Awoyv', 'Rapid', 'Mr_namvar', 2030, 'Dr_N_C_Chavda', 2108, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Bd2,Nxe4,Bxb4,Nxb4,Bxf7+,Kxf7,Qb3+,d5,Qxb4,Re8,Ne5+,Kg8,O-O,c5,Qa4,cxd4,Qxd4,Be6,Nc3,Nxc3,Qxc3,d4,Qg3,Rc8,Rac1,Bxa2,Rfd1,Rxc1,Rxc1,Qd5,Nd3,Bc4,Nf4,Qe5,h3,Bf7,Qf3,b5,Nd3,Qg5,Rc7,Bc4,Rxa7,Qd2,Ne5', 'Qe1+,Kh2,Qxe5+', 'https://lichess.org/training/Awoyv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AwPPY', 'Rapid', 'RaymondKeene4ever', 1797, 'philodendron68', 2202, 'd4,c5,d5,d6,c4,e5,h3,f5,e4,Nf6,Bg5,g6,Bxf6,Qxf6,Nd2,Bg7,Qa4+,Bd7,Qb3,b6,O-O-O,Na6,exf5,gxf5,Be2,O-O,g4,f4,Ngf3,Nc7,g5,Qg6,Bd3,Bf5,Nh4,Qxg5,Ndf3,Qh5,Bxf5,Rxf5,Nxf5,Qxf5,h4,e4,Qc2,b5,Rdg1,Re8,Rg5,Qf6,Rh5,exf3', 'Qxh7+,Kf7,Rf5,Qxf5,Qxf5+', 'https://lichess.org/training/AwPPY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Awqb4', 'Rapid', 'such-foot', 1704, 'chesszeyneperva1461', 1767, 'e4,e5,Nf3,Nc6,Bb5,Bc5,d3,d6,c3,h6,h3,Nf6,Nbd2,Be6,Nf1,O-O,Ng3,Nh7,Qe2,f5,exf5,Bxf5,Nxf5,Rxf5,Be3,Bb6,Bxb6,axb6,O-O,Qf6,Bc4+,Kh8,b4,Rd8,Rad1,d5,Bb3,d4,cxd4,Nxd4,Nxd4,Rxd4,a3,Ng5,Rc1,c6,Rc4,Rxc4,dxc4,e4,Qe3,c5,Bc2,Qe5,Re1,Rf4,f3,cxb4,axb4,Rh4,fxe4,Qb2,Qd3,Qxb4,Qd8+,Kh7,e5+,g6,Qd7+,Kg8,Qd5+,Nf7,Bxg6', 'Qxe1+,Kh2,Qxe5+,Qxe5,Nxe5', 'https://lichess.org/training/Awqb4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AWR5J', 'Blitz', 'chirality', 2057, 'Onnoohno', 1975, 'd4,c5,d5,b5,e4,a6,a4,b4,Nf3,d6,Bc4,Nf6,Nbd2,g6,O-O,Bg7,Re1,O-O,h3,Nbd7,a5,Ne5,Nxe5,dxe5,Nf3,Ne8,Qe2,Nd6,b3,Nxc4,Qxc4,e6,Bb2,exd5,exd5,Bb7,Bxe5,Qxd5,Qxd5,Bxd5,Bxg7,Kxg7,Ne5,Rfe8,Nd3,c4,Nxb4,Be6,bxc4,Bxc4,f3,Rad8,Kf2,Rd2+,Kg3,Rxe1,Rxe1,h5,Re4,Bb5,c4,Bd7,Nxa6,Ra2,Nb8,Bf5,Re5,h4+,Kxh4,Rxg2,a6', 'g5+,Kh5,Bg6#', 'https://lichess.org/training/AWR5J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aWR9J', 'Rapid', 'tosicteodor2', 1787, 'GHDFH', 1956, 'e4,b6,Nc3,Bb7,d4,e6,Be3,d6,Bd3,Nd7,Nf3,h6,Qd2,a6,a3,g6,h3,Bg7,Ne2,Ne7,Ng3,e5,c3,Kf8,Rf1,Kg8,Bc2,Kh7,Bb3,Rf8,Nh2,f5,exf5,gxf5,Nh5,f4,Bc2+,Ng6,Qd3,Qe8,Nxg7,Kxg7,Bd2,e4,Qe2,d5,O-O-O,a5,Qh5,Qe6,Ng4,Rh8,g3,Raf8,gxf4,Rf5,Qxf5,Qxf5,Rg1,Kf7,f3,h5,fxe4,dxe4,Bb3+,Ke7,Ne3,Qf6,Bd5,c6,Bxe4,Nxf4', 'Nf5+,Kd8,Bxf4', 'https://lichess.org/training/aWR9J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aWSFV', 'Blitz', 'Nowbi', 2135, 'netsc', 2224, 'd4,Nf6,c4,g6,Nc3,d5,e3,Bg7,Nf3,O-O,Qb3,dxc4,Bxc4,a6,Ng5,e6,a4,Nc6,Be2,Na5,Qb4,Nc6,Qb3,Nd5,Nge4,Na5,Qa3,b6,Bf3,Nc4,Qb3,Na5,Qa3,Bb7,O-O,Nxc3,bxc3,c5,Nd2,cxd4,cxd4,Rc8,Bxb7,Nxb7,Bb2,Rc2,Nf3,Nd6,Qb3,Rc4,e4,Qc7,e5,Nf5,Rac1,Rc8,Rxc4,Qxc4,Qxb6,Qxa4,Ra1', 'Qxa1+,Bxa1,Rc1+,Ne1,Rxe1#', 'https://lichess.org/training/aWSFV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AwSof', 'Rapid', 'datadweller', 1835, 'GeorgeK13', 1841, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,d6,d4,Bd7,Bxc6,Bxc6,d5,Bd7,Bg5,Be7,Bxf6,Bxf6,Qd3,Rb8,Nb5,a6,Nc3,b5,b4,c5,bxc5,dxc5,d6,Bc6,O-O-O,c4,Qd2,b4,Nd5,Qxd6,Nxf6+,Qxf6,Qd6,Qxd6,Rxd6,Bxe4,Nxe5,f6', 'Re6+,Kf8,Nd7+,Kf7,Rxe4', 'https://lichess.org/training/AwSof');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aWsvf', 'Classical', 'sandy42', 1957, 'DavidChopin', 1870, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,a3,e5,Nb3,Be6,Be2,d5,exd5,Nxd5,Nxd5,Bxd5,Bf3,Bxf3,Qxf3,Nc6,O-O,Be7,Be3,O-O,Rfd1,Qc7,Qg3,Rfd8,Bh6,Bf6,Bg5,Qe7,Bxf6,Qxf6,Nc5,Qe7,Ne4,Nd4,Qd3,f5,Ng3,Rd6,Qc4+,Kh8,c3,b5,Qf1,f4,cxd4,fxg3,fxg3,exd4,Rd3,Rf8,Qd1,Qe4,Rc1,Rfd8,Rc2,g6,Re2,Qf5,Rf2,Qc5,Qf1,Qc8,Rf7,R6d7', 'Qf6+,Kg8,Qg7#', 'https://lichess.org/training/aWsvf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AWsyW', 'Rapid', 'Jarnail', 1770, 'OMARIES', 1781, 'd4,d5,Nf3,Nc6,c4,dxc4,e3,Qd5,Nc3,Qh5,Bxc4,Qg6,O-O,e6,Bd3,Qf6,Ne4,Qh6,Qb3,Nf6,Nxf6+,Qxf6,Bb5,Bd7,Ne5,Qe7,Nxc6,bxc6,Be2,Qd8,Bd2,Bd6,Bb4', 'Rb8,Bxd6,Rxb3', 'https://lichess.org/training/AWsyW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AwtXt', 'Rapid', 'jonarmani', 1762, 'LankyLuke', 1819, 'd4,d5,Nf3,c5,Bf4,Nc6,c3,Nf6,e3,Bg4,Nbd2,e6,Bd3,Bd6,Bg3,cxd4,exd4,O-O,Qc2,h6,Ne5,Rc8,h3,Bh5,Ndf3,Nb4,Qd2,Nxd3+,Qxd3,Ne4,O-O,Nxg3,fxg3,f5,Rae1,Qc7,g4,fxg4,hxg4,Be8,g5,h5,g6,a6,Rf2,Qe7,Qd1,Rf6,Ng5,Rxf2', 'Qxh5,Qxg5,Qxg5', 'https://lichess.org/training/AwtXt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AWutI', 'Rapid', 'NikolbertTeslasteiN', 1951, 'tornago52', 1997, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bf4,Nc6,c3,Bg4,Be2,Bd6,Bg3,O-O,O-O,Re8,Re1,Qd7,Nbd2,Na5,Ne5,Bxe5,Bxe5,Bxe2,Rxe2,Re6,b3,Qc6,Rc1,b6,Nf3,Ne4,Qd3,Nb7,c4,Nbd6,Rec2,a5,cxd5,Qxd5,Rxc7,Rae8,h4,h6,Bxd6,Nxd6,Ne5', 'Rxe5,dxe5,Qxd3', 'https://lichess.org/training/AWutI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AwUvr', 'Rapid', 'Ridwanlingga', 2132, 'CARLOMARRI', 1854, 'e4,e5,Nf3,Qf6,Bc4,Bc5,Nc3,c6,d3,h6,h3,Ne7,Be3,d6,a3,O-O,O-O,Ng6,Qe2,Nf4,Bxf4,exf4,Rad1,Qg6,Kh2,Be6,d4,Bb6,Bd3,Qf6,d5,cxd5,exd5,Bf5,Rb1,Bxd3,Qxd3,Nd7,Ne4,Qg6,c4,Nc5,Nxc5,Bxc5,Qxg6,fxg6,Rbe1,g5,Re7,b6', 'b4,Bxb4,axb4', 'https://lichess.org/training/AwUvr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aWvSN', 'Bullet', 'sepantman', 1543, 'Felipex98', 1550, 'd4,Nf6,Bf4,g6,Nc3,Bg7,Nf3,O-O,Qd2,b6,Bh6,Bb7,Bxg7,Kxg7,h4,d6,h5,Nxh5,Rxh5,gxh5,Qg5+,Kh8,Nh4,Rg8,Qxh5,e5,dxe5,Nd7,e3,Nxe5,f4,Ng6,Nxg6+,fxg6,Qh3,a5,g4,c5,Bd3,d5,f5,c4,fxg6,Rg7,Bf5,Bc8,gxh7', 'Bxf5,gxf5,Rg1+,Kd2,Rxa1', 'https://lichess.org/training/aWvSN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AWWvG', 'Classical', 'Muhammed5563', 1659, 'UbeiMenta', 1648, 'e4,d5,exd5,Nf6,c4,c6,dxc6,Nxc6,Nc3,e5,d3,Bb4,Bd2,O-O,a3,Ba5,Be2,Nd4,b4,Nxe2,Ngxe2,Bc7,Ng3,b6,Bg5,Bb7,O-O,h6,Bh4', 'g5,Bxg5,hxg5', 'https://lichess.org/training/AWWvG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AWxCC', 'Rapid', 'terabot', 2086, 'herrifan', 2085, 'e4,e5,Nf3,d6,Bc4,Be7,Nc3,Nf6,d4,exd4,Qxd4,O-O,Be3,Nc6,Qd2,Bg4,h3,Bh5,g4,Bg6,O-O-O,Nxe4,Nxe4,Bxe4,Be2,a5,Rhg1,a4,a3,b5,Ng5,Bg6,h4,h6,h5,Bxg5,hxg6,Qf6,gxf7+,Qxf7,Bxg5,hxg5,Qxg5,Qa2,Bxb5,Rxf2,Qd5+,Qxd5,Rxd5,Ne5,Bd3,Kf7,Bf5,Ra7,Rd2', 'Rxd2,Kxd2,Nf3+,Ke3,Nxg1', 'https://lichess.org/training/AWxCC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AwYvS', 'Rapid', 'ceferinobaez', 1850, 'herlin5000', 1861, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Nc6,Bd3,Bd7,Bc2,Nge7,O-O,Nf5,Bxf5,exf5,a3,Be7,b4,cxd4,cxd4,O-O,Nc3,Be6,Bg5,h6,Bxe7,Nxe7,Na4,Qb5,Nc5,b6,Nxe6,fxe6,Rc1,Rac8,Nh4,Rc6,Rxc6,Qxc6,Qd2,Rc8,h3,Qc3,Qe3,Qxe3,fxe3,Rc3,Kf2,Rxa3,Rc1,Kf7,Rc7,Ke8,Rb7,g5,Nf3,Kd8,h4,g4,Ne1,Rb3,Rxa7,Rxb4,Nd3,Rb3,Nf4,Rb2+,Kg1,Rb3,Nxe6+,Ke8,Kf2,Nc6,Rh7,Rb2+,Kg3,Re2,Rxh6,Rxe3+,Kf4,Re2,Kxf5,Rxg2,Ng7+,Kf7,Rxc6,Kxg7,Rxb6,g3,Kg5,Re2,Rb7+,Kf8,Kf6', 'Rf2+,Ke6,g2,Rb1,Rf1', 'https://lichess.org/training/AwYvS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AWZEf', 'Blitz', 'Snovski', 2504, 'NM The_Mule', 2397, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d6,c4,Nf6,Nc3,g6,f3,Bg7,Be3,O-O,Qd2,Bd7,O-O-O,Re8,h4,h5,Bg5,Qb8,Nxc6,bxc6,g4,hxg4,h5,Nxh5,Rxh5,gxh5,Bh6,Qd8,Bxg7,Kxg7,fxg4,Bxg4,Be2,Qf6,Bxg4,hxg4,Rg1,Kf8,Rxg4,Ke7,e5,Qf1+,Kc2,Qf5+,Re4,Kd7,Kb3,Rab8+,Ka3,Rxe5,Rxe5,Qxe5,Na4,Qg3+,b3,Qe5,Qf2,Qe7,Qxa7,d5+,Nc5+,Kc8,Qa6+,Kd8,Qxc6,dxc4,b4,Rb6', 'Qa8+,Rb8,Qxb8#', 'https://lichess.org/training/AWZEf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ax0zU', 'Rapid', 'Kinez', 1790, 'PerpetualNoob', 1747, 'e4,d5,e5,e6,d4,c5,Nf3,Nc6,Bb5,cxd4,Nxd4,Bd7,Bxc6,bxc6,b4,a5,O-O,Bxb4,Bd2,Ne7,a3,Bxd2,Qxd2,O-O,a4,Ng6,f4,c5,Nb5,Bxb5,axb5,Qb6,Na3,Rfd8,Kh1,Rac8,Qd3,c4,Qc3,d4,Qf3,d3,cxd3,cxd3,Rac1,Rxc1,Rxc1,d2,Rd1,Nh4,Qc6,Qf2,Nc2,Qf1+,Rxf1,d1=Q,Rg1,Nf5,b6', 'Ng3+,hxg3,Qh5#', 'https://lichess.org/training/ax0zU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aX2ku', 'Rapid', 'Hachy2200', 1978, 'freeboot', 1966, 'e4,e6,d4,d5,Nd2,Nf6,Bd3,c5,e5,Nfd7,c3,Nc6,Ne2,Be7,f4,f6,Nf3,fxe5,fxe5,cxd4,cxd4,Qb6,O-O,Ndxe5,Nxe5,Nxe5,Bc2,Ng6,Nf4,Nxf4,Bxf4,Bf6,Qh5+,Ke7,Kh1,Qxb2,Bb3,Bd7,Be5,Raf8,Rae1,Bc6,Bxf6+,Rxf6,Rxf6,gxf6,Bxd5,Bxd5,Qxd5,Qb6,Qe4,Qc6,d5,Qd6,dxe6,Qc6,Qb4+,Ke8,Qh4,Ke7,Qh3,Qd6,Qb3,Qc6,Qa3+,Ke8,Rf1,Rg8,Qb2,Qxe6,Qf2,a6', 'Re1,Qxe1+,Qxe1+', 'https://lichess.org/training/aX2ku');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AX4Fl', 'Rapid', 'karkas1950', 2141, 'konkaps21', 1762, 'e4,e5,Nc3,Nc6,g3,Bc5,Bg2,d6,h3,Nf6,Nge2,Be6,O-O,d5,d3,dxe4,Nxe4,Nxe4,dxe4,O-O,c3,Qf6,b3,Rad8,Qe1,a5,Kh2,b5,f4,exf4,gxf4,Rd3,e5,Qg6,Ng3,Rfd8,Be4,Bf5,Bxf5,Qh6,Bxd3,Rxd3,Qe4,Rxc3,Bb2,Re3,Qxc6,Qxc6,Rac1,Qb6,Rfd1,h6,Rc2,a4,Nf5,Rf3,b4,Bg1+,Rxg1,Rf2+,Rg2,Rxg2+,Rxg2,Qe6,Nxg7,Qc4,Nh5+,Kf8,a3,Qe4,Kg3', 'Qg6+,Kh2,Qxh5', 'https://lichess.org/training/AX4Fl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ax85P', 'Rapid', 'tummle', 1631, 'Eva_Pavlotsky', 1652, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bb4+,c3,Be7,Ng5,O-O,Nf3,d5,exd5,Nxd5,O-O,Bg4,h3,Be6,Be3,Nxe3,fxe3,Bxc4,dxc4,Bc5,Qe2,Qe7,Nbd2,Rad8,Ne4,Rd7,Nxc5,Qxc5,Rad1,Rfd8,Rxd7,Rxd7,Kh1,h6,b4,Qd6,c5,Qd3,Qe1,f6,e4,Qc2,a3,Rd3,Qc1,Rxc3,Qxc2,Rxc2,Rd1,Re2,Rd7,Rxe4,Rxc7,Re3,Rxb7,Rxa3,b5,Nd4,Nxd4,exd4,c6,Rc3,c7,Kh7,Rxa7,d3,b6', 'd2,Ra1,Rc1+', 'https://lichess.org/training/ax85P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AX8ki', 'Blitz', 'CM Davigator', 2385, 'ronaldpujeda', 2338, 'e4,c6,d4,d5,e5,e6,c4,dxc4,Bxc4,c5,d5,exd5,Bxd5,Qc7,Nf3,Nc6,Bf4,Be6,Bxe6,fxe6,O-O,Nge7,Nc3,Ng6,Bg3,a6,a4,Rd8,Qc2,Be7,h4,O-O,h5,Nf4,Qe4,Nd4', 'Bxf4,Nxf3+,Qxf3', 'https://lichess.org/training/AX8ki');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aX8Qg', 'Rapid', 'Yassin2', 1821, 'Mobinm', 1822, 'e4,e6,d4,d5,exd5,exd5,Nf3,c5,c4,Nc6,cxd5,Qxd5,Nc3,Qe6+,Be3,cxd4,Nxd4,Nxd4,Qxd4,Nf6,Bb5+,Bd7,Bxd7+,Qxd7,Qf4,Bd6,Qc4,O-O,O-O-O,Qc7,Qh4,Rfd8,Kb1,Bc5,Bg5,Bd4,Ne4,Nxe4', 'Bxd8,Rxd8,Qxe4', 'https://lichess.org/training/aX8Qg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AX8qS', 'Rapid', 'Villeroy', 1621, 'PabloRemonta07', 1680, 'Nf3,d5,d4,Bf5,c4,dxc4,Nc3,Bg4,e4,Nc6,d5,Na5,h3,Bh5,g4,Bg6,Qa4+,c6,Ne5,e6,Nxg6,fxg6,Bf4,Be7,O-O-O,Nf6,f3,O-O,dxe6,Qb6,Bxc4,Ne8,Rd7,Rxf4,Rxe7,Qe3+,Kc2,Qf2+,Ne2,Nxc4,Qxc4,Rxf3,Kb1,Rd8,Rc1,Re3,Nc3,Qf6,Rxb7,Nd6,e7+', 'Nxc4,exd8=R+,Qxd8', 'https://lichess.org/training/AX8qS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AXAjF', 'Blitz', 'deitaking', 1731, 'Paja456', 1735, 'd3,d5,e4,dxe4,dxe4,Qxd1+,Kxd1,Nc6,Nf3,Bg4,Be2,O-O-O+,Bd2,Bxf3,Bxf3,Nd4,Bg4+,e6,Nc3,h5,Be2,Bb4,Bd3,Nf6,a3,Bxc3,Bxc3,Ng4,Bxd4,Rxd4,Ke2,f5,exf5,exf5,Bxf5+,Kb8,Bxg4,hxg4,Rad1', 'Re8+,Kf1,Rxd1#', 'https://lichess.org/training/AXAjF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Axbm9', 'Rapid', 'aliser21', 1636, 'b9b', 1971, 'e4,e5,Nf3,Nc6,h3,Nf6,d3,Bc5,Bg5,d6,Nc3,Be6,a3,Qd7,Bxf6,gxf6,Rb1,f5,b4,Bb6,Be2,fxe4,dxe4,f5,exf5,Bxf5,Nd5,O-O-O,Nxb6+,cxb6,Bb5,Kb8,Bxc6,bxc6,Rb2,e4,Nd4,Rhg8,Nxf5,Qxf5,c4,Rxg2,Qe2,Qf3,c5,d5,cxb6,Qxe2+,Rxe2,axb6,h4,Rdg8,Kd2,R2g4,h5,h6,Ke3,Rf8,Kd4,Rf3,b5,Rd3+,Ke5,Rg5+,Kf6,c5,f4,exf3,Re8+,Kc7,Rhe1,d4', 'R1e7+,Kd6,Rd8#', 'https://lichess.org/training/Axbm9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('axbWe', 'Rapid', 'Georgeisback2020', 2044, 'ofac63', 2035, 'd4,e6,c4,d5,Nf3,f5,Nc3,c6,Bf4,Nf6,e3,Bd6,Bd3,Bxf4,exf4,O-O,Qc2,Nbd7,Ne5,Ne4,f3,Nxe5,fxe5,Qh4+,Kf1,Ng5,g3,Qxd4,Rd1,Nxf3,Bxf5,Qxe5,Bxh7+,Kh8,Kg2,Nd4,Qd3,c5,Rhe1,Qh5,Bg6,Qh6,Re5,dxc4,Qe4,Nf5,Bxf5,exf5,Qxc4,f4,gxf4,Bh3+,Kg3,Bf5,Qf1,Qg6+,Kf2,Qg4,Ke3,Rae8,Rd5,Be6,Rxc5,b6,Rc7,Rf5,Qf3,Rxe5+,fxe5,Qg1+,Qf2,Qg5+,Qf4,Qg1+,Qf2,Qc1+,Qd2,Qf1,Qf2,Qh3+,Qf3,Qxh2,Ne4,Bd5,Qf4,Qg1+,Kd2,Bxe4,Qxe4,Rd8+,Kc3,Qg3+,Kb4,a5+,Kb5,Qh3,Kxb6,Qe6+,Rc6,Rb8+,Ka7,Qe8,Qh4+,Kg8,Qc4+,Kf8,Qc5+,Kg8,Qd5+,Kf8,Qd6+,Kg8,Rc7,Ra8+,Kb7', 'Qb8+,Kc6,Ra6+,Kd5,Rxd6+', 'https://lichess.org/training/axbWe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AXBZV', 'Blitz', 'Slavman152', 1636, 'vladimir2000', 1784, 'd4,d5,Nf3,Nf6,e3,Bg4,Bd3,c6,Nbd2,e6,a3,Qa5,b4,Bxb4,O-O,Be7,h3,h5,hxg4,hxg4,Ne5,Qc7,g3,Nbd7,Nxg4,Nxg4,Qxg4,Nf6,Qxg7,O-O-O,Qxf7,Rdg8,Nf3', 'Rxg3+,fxg3,Qxg3#', 'https://lichess.org/training/AXBZV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AxC2a', 'Blitz', 'cagtay', 1922, 'LeroyS', 1939, 'e4,c5,Nc3,Nc6,Nf3,e6,a3,a6,Bc4,Qc7,d3,Nge7,O-O,d5,exd5,exd5,Ba2,d4,Ne4,Bg4,h3,Bh5,g4,Bg6,Nxc5,h6,Re1,f5,Ne6,Qd7,Kg2,fxg4,hxg4,h5,g5,h4,Kh2,Qd6+,Kh1,h3,Bd2,Bf7,Bb4,Nxb4,axb4,Bxe6,Bxe6,Qf4,Qe2,g6,Ne5,Qxg5,Rg1,Qf4,Bd7+,Kd8,Bg4,Nf5,Nf7+,Kc7,Nxh8,Bd6,f3,Ng3+,Rxg3,Qxg3,Nxg6,h2,Ne7,Rd8,Nd5+,Kb8,f4,Rg8,Bf3', 'Qg1+,Rxg1,hxg1=Q#', 'https://lichess.org/training/AxC2a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AXC5R', 'Rapid', 'mklemenz', 1717, 'Chessnyi', 2033, 'e4,c6,Nf3,d5,e5,Bg4,d4,e6,Be2,Qb6,O-O,c5,c3,Nc6,h3,Bxf3,Bxf3,cxd4,cxd4,Nxd4,Be3,Nxf3+,Qxf3,Bc5,Nd2,Ne7,Nb3,Bxe3,fxe3,O-O,Nd4,Rac8,Rf2,Nc6,Qf4,a6,Raf1,Nb4,Rd2,Nxa2,Rdf2,Nb4,Nxe6,Qxe6,Qxb4,Rc7,Qf4,Re7,e4,Qxe5,exd5,Qxd5,Qb4,Re4,Qb6,Re6,Qb4,Rg6,Rd2,Qc6,Re1,b5', 'Qxf8+,Kxf8,Rd8+,Qe8,Rexe8#', 'https://lichess.org/training/AXC5R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AXCri', 'Rapid', 'Lawyerdavar', 1706, 'Alpacalypse1919', 1715, 'e4,c6,Nc3,d5,exd5,cxd5,Nf3,Nf6,d3,d4,Ne4,Nc6,Bd2,e5,c3,Be7,cxd4,exd4,Be2,O-O,O-O,Re8,a3', 'Nxe4,dxe4,d3,Bc3,dxe2', 'https://lichess.org/training/AXCri');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aXFkm', 'Blitz', 'GM Meskenas', 2603, 'jimmy0613', 2432, 'd4,Nf6,c4,e6,Nf3,c5,d5,exd5,cxd5,d6,Nc3,g6,Nd2,Bg7,e4,O-O,Be2,b6,a4,Ba6,Bb5,Bxb5,axb5,Nbd7,O-O,Re8,f3,Ne5,Ra4,Nd3,Nc4,Nxc1,Qxc1,Nh5,g4,Bd4+,Kg2,Ng7,Qf4,Be5,Nxe5,Rxe5,Rfa1,Qe7,Nd1,f5,Ne3,g5,Qg3,f4,Qe1,fxe3,Qxe3,Qf7,Qa3,Re7,Ra6,Rf8,Qe3,h6,Kg3,Qf6,Rxa7,Qe5+,Kh3,Rxa7,Rxa7,h5,Qc3,hxg4+,Kxg4,Rf4+,Kg3,Rh4+,Qxe5,dxe5,Re7,Nh5+,Kg2,Nf4+,Kg1,Rh3,d6,Rxf3', 'd7,Rd3,Re8+', 'https://lichess.org/training/aXFkm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('axfTB', 'Rapid', 'BlackHorse_20', 1804, 'Ark4ank', 1821, 'e4,e6,f4,d5,e5,Qh4+,g3,Qd8,d4,c5,c3,Nc6,Bb5,cxd4,cxd4,Qa5+,Nc3,Bd7,Bxc6,Bxc6,Nf3,Ne7,Bd2,Qb6,b3,Nf5,Ne2,Bb5,Bc3,Rc8,Rc1,Ne3,Qd2,Nf5,O-O,Bxe2,Qxe2,Ba3,Ba5,Rxc1,Bxb6,Rxf1+,Qxf1,axb6,Qb5+,Ke7,Qxb6,Rd8,Qa5,Bb2,Qc7+,Rd7,Qc5+,Ke8,Qc8+,Ke7,Qc2,Bxd4+,Nxd4,Nxd4,Qd3,Nf5,g4,Nh6,h3,g6,a4,Ng8,b4,Kf8,a5,Ne7,b5,Rc7,a6,bxa6,bxa6,Nc6,Qc3,Rc8,Qc5+,Kg7,a7,Nxa7,Qxa7,Rc4,Qe3,Re4,Qd2,Rc4,Kf2,Re4,Kf3,Rc4,Qd3,Re4,h4,h6,g5,h5,Qa3,Rc4,Qb3,Re4,Qb8,Rc4,Qb2,Re4,Qa3,Rc4,Kg3,Re4,Qd3,Rc4,Qa3,Rd4,Qe3,Re4,Qd3,Rc4,Kf3,Ra4,Qb3,Ra1,Kg2,Re1,Qb6,Re4,Kf3,Rc4,Qd8,Rc3+,Ke2,Rc4,Qf6+,Kg8,Qd8+,Kg7,Qa5,Rxf4,Qd2,Rxh4,Qe3', 'Re4,Qxe4,dxe4', 'https://lichess.org/training/axfTB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aXG2o', 'Blitz', 'Kenankravitz', 1663, 'aead', 1707, 'e4,e5,Nf3,d6,Bc4,Be6,Bxe6,fxe6,c3,Nf6,Qc2,Be7,O-O,O-O,d4,exd4,cxd4,Nc6,d5,Ne5,Nxe5,dxe5,dxe6,Qd4,Qxc7,Bd6,Qxb7,Nxe4,Be3,Qd3,Bxa7,Rxa7,Qxa7,Bc5,Qd7,Qe2,Nc3,Bxf2+,Kh1', 'Ng3+,hxg3,Qh5#', 'https://lichess.org/training/aXG2o');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AXG5d', 'Blitz', 'sunkica1512', 1910, 'AshAlphA', 1813, 'e4,e5,Nf3,Nc6,Bc4,Nd4,O-O,Bc5,Nxd4,Bxd4,Qf3,Qf6,d3,Qxf3,gxf3,Ne7,c3,Bb6,f4,d6,fxe5,dxe5,Be3,Bd7,Nd2,f5,Bxb6,axb6,Rae1,Nc6,f4,exf4,Rxf4,O-O-O,exf5,Rhf8,Ref1,Ne5,Kg2,Bc6+,Kg1,Nxd3,Bxd3,Rxd3,Ne4,Re3,Ng5,h6,Ne6,Rf7,Nd4,Re8,Nxc6,bxc6,R1f2,Ref8,Kg2,g6,Kg3,gxf5,Kh4,Kd7,Kh5,Rf6,Re2,Rg8,Re5,Rg5+,Kh4,Kd6,Re2,Rfg6', 'Rd4+,Kc5,Re5#', 'https://lichess.org/training/AXG5d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AXIj5', 'Rapid', 'vlada555', 1766, 'Pentamerone', 1657, 'd4,b6,Bg5,Bb7,c3,h6,Bh4,g5,Bg3,f5,Be5,Nf6,Nd2,Bg7,e3,d6,Bxf6,Bxf6,Qh5+,Kd7,Ngf3,Nc6,Bd3,e6,d5,Ne5,dxe6+,Kxe6,Nxe5,dxe5,Bc4+,Bd5,O-O-O,c6,Nb3,Qe7,Rhe1,Bxc4,Nd4+,exd4,exd4+,Be5', 'Rxe5+,Kf6,Rxe7', 'https://lichess.org/training/AXIj5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aXjNv', 'Rapid', 'RYATUGIN5', 1793, 'srkila64', 1643, 'e4,e5,Nf3,d6,c3,Bg4,Be2,a6,h3,Bh5,d4,exd4,cxd4,Be7,Nbd2,Nf6,O-O,O-O,d5,Nbd7,b4,h6,Bb2,Bg6,Nh4,Nxe4', 'Nxg6,fxg6,Nxe4', 'https://lichess.org/training/aXjNv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aXk4V', 'Rapid', 'Alex_Jikai', 1675, 'Disconfirm', 1651, 'd4,d5,c4,c6,f4,Nf6,Nc3,Bf5,Nf3,e6,a3,Bd6,e3,O-O,c5,Bc7,Bd3,Bxd3,Qxd3,b6,b4,bxc5,bxc5,Ba5,O-O,Nbd7,Ng5,h6,Nh3,Rb8,Ne2,Ne4,Qc2,Qh4,Bb2,Rb7,Rf3,Rfb8,Bc3,Bd8,Be1,Rb2,Qd1,Qf6,Ng3,Nxg3,hxg3,Qg6,Nf2,Rc2', 'f5,exf5,Qxc2', 'https://lichess.org/training/aXk4V');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AXkR4', 'Rapid', 'PapoKarla', 1904, 'aragorn1915', 1723, 'e4,e6,Nf3,Nf6,Nc3,Bb4,d3,O-O,a3,Ba5,b4,Bb6,Be3,Bxe3,fxe3,Ng4,Qe2,f5,h3,Nf6,exf5,exf5,Nd4,d5,g3,Qe8,Bg2,Nh5,Bxd5+,Kh8,Rg1,c6,Bf3,Nf6,g4,fxg4,Bxg4,Bxg4,hxg4,Nbd7,g5,Nd5,Nxd5,cxd5,Qg4,Ne5,Qg3', 'Nf3+,Nxf3,Qxe3+,Kd1,Rxf3', 'https://lichess.org/training/AXkR4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aXNJR', 'Rapid', 'KillaUnknown', 1913, 'Darkest_Moment', 1812, 'd4,d5,Bf4,Nc6,e3,f6,Nf3,g5,Bg3,h5,h4,g4,Nfd2,Bf5,a3,Bh6,c4,e5,Nc3,Nge7,cxd5,Nxd5,Qb3,Nxc3,bxc3,Na5,Qa4+,c6,dxe5,Qd5,exf6,O-O-O,Rd1,b5,Qxa5,Rd7,Be2,Bc2,O-O,Bxd1,Rxd1,Qe6,c4,Bxe3,fxe3,Qxe3+,Bf2,Qxe2,Rf1,Rxd2,Qxa7,Re8,f7,Qxf1+,Kxf1,Rd1+,Be1,Rexe1+,Kf2,Rf1+,Kg3,Rd3+,Kh2', 'g3+,Kh3,Rh1#', 'https://lichess.org/training/aXNJR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AXO1n', 'Rapid', 'AridayBordon', 1788, 'ferchova1958', 1747, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Bg5,O-O,Nf3,c5,d5,e5,Be2,Na6,a3,Nc7,O-O,a6,h3,Rb8,Rb1,h6,Bxf6,Bxf6,Qd2,Bg7,b4,b6,b5,a5,a4,Ne8,Nh2,f5,Bf3,f4,g3,Bxh3,Rfe1,Qg5,g4,Nf6,Kh1,Bxg4,Rg1,Bxf3+,Nxf3,Qh5+,Nh2,Ng4,Rxg4,f3,Rbg1,Rf4,Rxf4,exf4,Qxf4', 'Be5,Rxg6+,Qxg6', 'https://lichess.org/training/AXO1n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AxO54', 'Rapid', 'Tremere20', 1623, 'inieyan', 1635, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bg4,Re1,Ne7,c3,a6,Bxc6+,Nxc6,d4,exd4,e5,dxe5,Nxe5,Bxd1', 'Nxc6+,Be7,Nxd8,Rxd8,Rxd1', 'https://lichess.org/training/AxO54');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AXOek', 'Rapid', 'Ajedress', 1688, 'Helsinkifreund', 1894, 'e4,e5,f4,d5,exd5,c6,dxc6,Nxc6,fxe5,Qh4+,g3,Qe4+,Ne2,Qxh1,d4,Qxh2,Qd3,Bg4,Bf4,Bxe2,Bxe2,Qh1+,Bf1,Rd8,c3,Qd5,Nd2,Nge7,Nc4,Ng6,O-O-O,Nxf4,gxf4,Be7,f5,Bg5+,Kb1,b5,Nd6+,Rxd6,exd6,Qxd6,Re1+,Ne7,Qxb5+,Qd7,Qb8+,Qd8', 'Bb5+,Kf8,Qxd8#', 'https://lichess.org/training/AXOek');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AXOnS', 'Bullet', 'getegete2020', 2169, 'NM ka1ser', 2496, 'Nf3,e6,c4,d5,d4,Nf6,cxd5,exd5,Nc3,c6,Bg5,Bd6,Qc2,Nbd7,e3,h6,Bh4,O-O,Bd3,Re8,O-O,Qc7,Bg3,Nf8,Rac1,Bg4,Nb5,Bxg3,Nxc7,Bxc7,h3,Bd7,Bf5,Ne6,Bxe6,Bxe6,b4,a6,a4,Bd7,b5,axb5,axb5,Bd6,bxc6,Bxc6,Ra1,Bb5,Rfb1,Ba6,Ne5,Ne4,Nd7,Re7,Nb6,Rae8,Nxd5,Re6,Rb6,f5,Raxa6,bxa6,Rxa6,Bh2+,Kxh2,Rxa6,Nf4,Rea8,Qc4+,Kh7,Qf7,Rf6,Qd5,Ra2,h4,Rxf2,h5,Rxf4,exf4,Nc3,Qe5,Rf7,g4,fxg4,f5,Ne2,Qe6', 'g3+,Kh1,g2+,Kxg2,Nf4+,Kg1,Nxe6', 'https://lichess.org/training/AXOnS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AXPw9', 'Blitz', 'Svisthorsky', 1612, 'Yevy', 1522, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,d4,e6,Bg5,Be7,Bd3,O-O,Qd2,h6,Bxh6,gxh6,Qxh6,Nbd7,Ng5,Re8,Nce4,Bf8', 'Nxf6+,Nxf6,Bh7+,Nxh7,Qxh7#', 'https://lichess.org/training/AXPw9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AXQ4c', 'Rapid', 'africool', 1924, 'lemilio775', 1852, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Bg4,Be2,e6,O-O,Nf6,d4,c6,Ne5,Bxe2,Nxe2,Nbd7,c3,Qc7,f4,Bd6,Qb3,Bxe5,fxe5,Nd5,Bg5,f6,exf6,gxf6,Bh4,O-O-O,Bg3,Qb6,Qa3,Ne3,Rfc1,e5,b4,exd4,Nxd4,Rhe8,Kh1,Nc4,Qb3,Nde5,Rd1,Ne3,Rg1,N5c4,a4,Rd5,a5,Qd8,b5,Nd2,Qa2,Ne4,bxc6', 'Nxg3+,hxg3,Rh5#', 'https://lichess.org/training/AXQ4c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AXTGV', 'Rapid', 'Fyodorovich', 1975, 'BoKemp', 1990, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nc6,d4,Nf6,Ne2,Bg4,Bg5,Bxe2,Qxe2,Nxd4,Ba4+,Nc6,Bxf6,gxf6,Nc3,e6,O-O-O,Be7,Kb1,O-O,Kc1,a6,h4,b5,Bb3,Kh8,g4,Rg8,f4,Qc7,Qf3,Bd6,Ne2,a5,a3,a4,Ba2,b4,g5,bxa3,bxa3,Bxa3+,Qxa3,Rgc8,Qc3,d4,Rxd4', 'Nxd4,Qxc7,Nxe2+,Kd2,Rxc7', 'https://lichess.org/training/AXTGV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('axTrt', 'Classical', 'berkmads', 1978, 'Hammerzchlag', 1868, 'd4,Nf6,c4,e6,Nf3,b6,Nc3,Bb4,a3,Bxc3+,bxc3,Bb7,Bf4,d6,e3,Nbd7,Bd3,O-O,O-O,Re8,Bg5,e5,dxe5,dxe5,Bf5,e4,Nd4,Ne5,Qe2,Nd3,f3,c5,Nb3,Qd6,Bxf6,Qxf6,fxe4,Qxc3,Nd2,g6,Bg4,Bxe4,Nxe4,Rxe4,Bf3,Rae8,Bxe4,Rxe4,Qf3,f5,Rfd1,Ne5,Qf2,Ng4,Qd2,Qxe3+,Qxe3,Nxe3,Rdc1,Rxc4,Rxc4,Nxc4,Kf2,Kf7,Ke2,Nd6,a4,g5,a5,b5,Kd3,f4,Rc1,c4+,Kd4,Ke6,Re1+,Kd7,Kc5,a6', 'Rd1,c3,Rxd6+', 'https://lichess.org/training/axTrt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('axVfD', 'Rapid', 'KarAv', 2035, 'Tiny_D', 1988, 'e4,e5,Nf3,Nc6,Bc4,Be7,O-O,Nf6,Nc3,O-O,d3,d6,Bg5,Bg4,h3,Bh5,g4,Nxg4,Bxe7,Qxe7,hxg4,Bxg4,Nd5,Qd7,c3,Kh8,Re1,f5,Ne3,fxe4,Nxg4,Qxg4+,Kf1,exf3,Re4,Qg2+,Ke1,Qg1+,Kd2,Qxf2+,Kc1,Qg2,Rh4,f2', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/axVfD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aXvkc', 'Blitz', 'dr_xStranger', 2530, 'FM Heisenberg01', 2658, 'e4,g6,d4,Bg7,Nc3,d6,f4,Nc6,Nf3,Bg4,d5,Nd4,Be2,Nxe2,Qxe2,Nf6,O-O,O-O,h3,Bxf3,Qxf3,c6,Be3,cxd5,exd5,Rc8,Rfe1,Qa5,Rad1,b5,a3,b4,axb4,Qxb4,Bxa7,Qxb2,Bd4,Qb7,Qe2,Rc7,Nb5,Rd7,c4,Rc8,Ra1,Qb8,Ba7,Qb7,Bd4,Ra8,Rxa8+,Qxa8,Ra1,Qb8,Qa2,Nh5,Bxg7,Kxg7,Qb2+,Nf6,g4,Qb6+,Qd4,Qxd4+,Nxd4,Rb7,Nc6,Rb3,Nxe7,Rxh3,Rd1,Rc3,g5,Nh5,Rd4,Ng3,Kf2,Kf8,Nc8,Nf5,Re4,Kg7,Ke1,h5,gxh6+,Kxh6,Kd2,Ra3,Ne7,Ng3,Re1,Kg7,Kc2,Kf6,Nc8,Nf5,Nb6', 'Nd4+,Kd2,Nf3+', 'https://lichess.org/training/aXvkc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('axwTe', 'Rapid', 'SrednaopChess', 1741, 'schneider1953', 1920, 'c4,f5,Nc3,Nf6,g3,g6,Bg2,Bg7,Rb1,O-O,b4,e5,Bb2,d6,d3,c6,Nf3,h6,O-O,g5,Nd2,f4,b5,c5,a4,g4,Nd5,h5,Ra1,h4,a5,f3,exf3,Nxd5,fxg4,Nb4,a6,Qe7,Bc3,h3,Be4,bxa6,Bxa8,Bb7,Bxb7,Qxb7,Ne4,axb5,Bxb4,cxb4,f3,Nd7,Nxd6', 'Qb6+,Kh1,Qxd6', 'https://lichess.org/training/axwTe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AxyEY', 'Blitz', 'sw4dma', 1633, 'BarskovKV', 1627, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,Bg4,Nc3,Be7,O-O,Nf6,h3,Bxf3,Qxf3,Nd4,Qd1,c6,fxe5,dxe5,d3,O-O,Be3,Bc5,Kh1,b5,Bb3,Nxb3,axb3,Bxe3,Ne2,Bb6,c4,bxc4,bxc4,Bc5,Ng3,Rb8,b3,Bd4,Rb1,Nd7,Nf5,Nc5,Qg4,g6,Nh6+,Kh8,b4,Nxd3,Nxf7+,Rxf7,Rxf7,Nf2+,Rxf2,Bxf2,Rf1,Bd4,Qe6,Qg8,Rf7,Rf8', 'Qf6+,Qg7,Qxg7#', 'https://lichess.org/training/AxyEY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AXZKW', 'Blitz', 'adtsakal', 1997, 'Fear_Django', 1989, 'e4,e5,d4,exd4,c3,d3,Bxd3,Nc6,Nf3,Nf6,O-O,Bc5,Bg5,d6,Nbd2,h6,Bh4,Bg4,Qc2,Qd7,b4,Bb6,a4,a6,a5,Ba7,Bxf6,gxf6,b5,Ne5,Nxe5,fxe5,bxa6,bxa6,Bxa6,O-O,Bd3,Kh7,Kh1,Rg8,f3,Be6,Bc4,Rg5,Qb3,Bxc4,Qxc4,Qe7,f4,Rh5,fxe5', 'Rxh2+,Kxh2,Qh4#', 'https://lichess.org/training/AXZKW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aXzU8', 'Blitz', 'stefff10', 1914, 'FoBiBahn', 2001, 'd4,d5,Nf3,Nc6,c4,dxc4,e3,Nf6,Nc3,Bg4,Bxc4,e6,Qe2,Bd6,O-O,O-O,h3,Bh5,g4,Bg6,Bd3,Nd5,e4,Nxc3,bxc3,Be7,Bf4,Qd7,Bg3,a6,h4,h6,Kg2,b5,Qc2,Na5,e5,Bxd3,Qxd3,Nc4,g5,hxg5,hxg5,c5,Rh1,g6,Qe4,Kg7,Rh6,Rh8,Rah1,cxd4,cxd4,Qd5,Qh4,Nd2', 'Rh7+,Rxh7,Qxh7+,Kf8,Qh8#', 'https://lichess.org/training/aXzU8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AY72a', 'Rapid', 'vnessuno', 1869, 'oldeagle', 1864, 'c4,g6,d4,Bg7,e4,Nc6,Nf3,d6,a3,Bg4,Be2,Bxf3,Bxf3,Nxd4,O-O,e5,Nc3,Nf6,Be3,Nxf3+,Qxf3,O-O,Rad1,Qe7,Bg5,c6,Rd2,Rad8,Rfd1,Qe6,Bxf6,Bxf6,b3,Rd7,Qh3,Qxh3,gxh3,Be7,a4,f5,Kg2,fxe4,Nxe4,Rfd8,f3,Kf7,h4,Ke6,Kh3,d5,cxd5+,cxd5,Nc3,d4,Ne4,d3,Kg2,Kf5,Ng3+,Kf4,Ne4,Bxh4,Nc5,Rc7', 'Ne6+,Ke3,Nxc7', 'https://lichess.org/training/AY72a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AYAE5', 'Blitz', 'comecomecomecomecome', 1838, 'ausdrucksvoll', 1932, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,cxd5,exd5,Qc2,Bd6,Bg5,Nbd7,e3,h6,Bh4,Qc7,Bd3,O-O,O-O,Re8,Rab1,a5,a3,b5,b4,axb4,axb4,Bb7,Nd2,Bxh2+,Kh1,Bd6,Nb3,Ra3,Nc5,Bxc5,bxc5,Rea8,Rb2,b4,Nb1,Ra1,Rxb4,Bc8,Rb2,Qa5,f3,g5,Be1,Nh5,Bxa5,Ng3+,Kg1,Nxf1,Bxf1,R8xa5,Qf2,Kg7,f4,g4,f5,Nf6,Bd3,R5a3,Bc2,Ba6,Qf4,Bb5,e4,dxe4,Bxe4,Nxe4,Qxe4,Bd3,Qxg4+,Kf6,Rb6,Bxf5,Rxc6+,Be6,Qf4+,Kg7,Qg3+,Kf6,Rb6,Rxg3,c6,Bd5,c7+,Kg7,c8=Q,Rxg2+,Kf1,Raa2,Ke1,Rae2+,Kd1,Ref2,Qe8,Rg1+,Qe1', 'Bf3+,Kc1,Rxe1#', 'https://lichess.org/training/AYAE5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aYbCr', 'Blitz', 'doctorchesstherapy', 2119, 'FM jposthuma', 2402, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nf6,Nxf6+,gxf6,c3,Qd5,Qb3,Qxb3,axb3,Be6,Bc4,Bxc4,bxc4,Nd7,Nf3,a6,Bf4,Nb6,b3,O-O-O,O-O,e6,Rfe1,h5,h4,Bh6,Bxh6,Rxh6,Kf1,Rg6,g3,Nd7,c5,f5,Rad1,Nf6,Ne5,Rg7,c4,f4,gxf4,Rdg8,Ke2,Ne4,Kf3,f5,Rd3,Rg2,Re2,R8g3+,fxg3', 'Rxg3#', 'https://lichess.org/training/aYbCr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AYbfJ', 'Rapid', 'juhis0202', 1682, 'Mahesvara11', 1631, 'd4,Nf6,Bf4,g6,e3,Bg7,Nf3,d6,Bd3,O-O,c4,e6,O-O,Nc6,Qb3,Re8,Nbd2,a6,d5,exd5,cxd5,Ne5,Bc2,b5,e4,Bb7,Rac1,c6,Rfe1,cxd5,a4,dxe4,Nxe4,Nxe4,axb5,Nd2,Nxd2,axb5,Qxb5,Bc6,Qb3,Qh4,Bxe5,Bxe5,Nf3,Bxf3,Qxf3,Qxh2+,Kf1,Qh1+,Ke2,Bc3+,Kd3,Bxe1,Bb3,Rab8', 'Qxf7+,Kh8,Qf6#', 'https://lichess.org/training/AYbfJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AYbs5', 'Rapid', 'Abhijeet_89', 1632, 'John_Valdez', 1727, 'e4,e5,Nf3,Nc6,a3,Nf6,Nc3,Bc5,Bc4,d6,h3,Be6,Qe2,O-O,O-O,Nh5,d3,Ng3,Qd2,Nxf1,Kxf1,Qd7,Qg5,Bxc4,dxc4,Ne7,Bd2,Ng6,Rd1,f5,exf5,Qxf5,Qg3,e4,b4,exf3,bxc5,fxg2+,Qxg2,Qxc5,Be3,Qxc4+,Ne2,Rae8,Rd4,Qxc2,Qg3,Qb1+,Kg2,Qf5,Nf4,Nxf4+,Rxf4,Qg6,Rg4,Qf6,h4,d5', 'Bd4,Qf3+,Qxf3', 'https://lichess.org/training/AYbs5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ayc1C', 'Rapid', 'vermamontu', 1731, 'derrocador', 1749, 'e4,e5,Nf3,Nc6,c3,Nf6,d4,exd4,Nbd2,dxc3,bxc3,d6,Bc4,Be7,O-O,O-O,Bb2,Na5,Bd3,Re8,Nc4,Nxc4,Bxc4,a6,Bd3,d5,e5,Ng4,Qd2,f6,Rae1,Bc5,exf6,Nxf6,Rxe8+,Nxe8,c4,Nf6,cxd5,Nxd5,Bc2,Be6,Qd3,g6,Qc3,Nxc3,Bxc3,a5,Rd1,Qf8,Re1,Bg4', 'Bb3+,Qf7,Bxf7+,Kxf7,Ne5+,Kf8,Nxg4', 'https://lichess.org/training/ayc1C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AycKs', 'Rapid', 'CodyJarrett', 2181, 'thirulavu', 1931, 'c4,Nf6,g3,e6,Bg2,d5,Nf3,c6,O-O,Nbd7,b3,Bd6,Bb2,e5,cxd5,cxd5,Nc3,a6,d4,e4,Ne1,Bb4,Nc2,Bxc3,Bxc3,O-O,Bb4,Re8,Qd2,a5,Ba3,b6,Ne3,Ba6,Rfc1,Rc8,Nf5,Rxc1+,Rxc1,g6,Ne3,Nb8,Bh3,Kg7,Qc2,h5,Kf1,g5,Bf5,h4,g4,Bb5,Qc7,Qxc7,Rxc7,Nbd7,Bxd7,Bxd7,h3,b5,Bd6,Rc8,Rxc8,Bxc8,Be5,Be6,Nc2,Kg6,Na3,Bd7,Kg2,a4,bxa4,bxa4,Nc2,Bb5,e3,Nd7,Bd6,Nb6,Nb4,Bc4,a3,Bb3,Bc5,Nc4,Nxd5,Nxa3', 'Ne7+,Kf6,Bxa3', 'https://lichess.org/training/AycKs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ayemk', 'Rapid', 'Victoria59G', 1752, 'GRA2020', 1679, 'e3,d5,c4,Nf6,Nf3,Bg4,d4,e6,h3,Bh5,Be2,Bb4+,Nc3,Ne4,Qc2,Bxc3+,bxc3,O-O,O-O,Nd7,Ba3,c5,cxd5,exd5,g4,Bg6,Bd3,Re8,dxc5,Ndxc5,Bxc5,Nxc5,Bxg6,hxg6,Rad1,Ne4,Rd4,f5,Qb3,Qc8,Rxd5,Kh8,Ne5,Rxe5,Rxe5,Nd2,Qd1,Nxf1,Kxf1,Qxc3,Rd5,Qc4+,Kg1,fxg4,Rd4,Qe6,Rxg4,Qxa2,Rxg6,Rf8,Qh5+,Kg8,Qh4', 'Qb1+,Kg2,Qxg6+', 'https://lichess.org/training/ayemk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ayf24', 'Classical', 'mosco', 1767, 'Stromboli', 1828, 'd4,Nf6,c4,c5,d5,b5,b3,g6,Nd2,Bg7,Bb2,Qb6,Rb1,O-O,Ngf3,bxc4,bxc4,Qd8,e4,Qa5,Bd3,e6,e5,Nh5,O-O,Nf4,Ne4,exd5,Nf6+,Bxf6,exf6,d4,Be4,Nc6,Ne5,Qc7,Nxc6,dxc6,Qf3,Bd7,Rfe1,Rfe8,Bc1,Ne6,Qh3,Qd8,Qh4,Ng7,Bg5,Nf5,Bxf5,Rxe1+,Rxe1,Bxf5,Bh6,d3,Rd1,Rb8,Be3,Qd6,Bxc5', 'Qxc5,Qh6,Qf8', 'https://lichess.org/training/Ayf24');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AYFd7', 'Rapid', 'fmclara', 2319, 'alireza3737', 2002, 'Nf3,d5,c4,d4,g3,Bg4,Bg2,Nc6,O-O,e5,h3,Be6,d3,Qd7,Ng5,f6,Nxe6,Qxe6,Na3,a6,Nc2,O-O-O,b4,Bxb4,Nxb4,Nxb4,Bxb7+,Kxb7,Rb1,c5,a3,a5,Bd2,Ne7,axb4,axb4,Bxb4,cxb4,Rxb4+,Kc7,Qb3,Rb8,Rb1,Nc6', 'Rb7+,Rxb7,Qxb7+', 'https://lichess.org/training/AYFd7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ayfIG', 'Rapid', 'Rijul2817', 1724, 'mph0000', 1659, 'd4,d5,Nf3,c6,Bf4,Nf6,e3,e6,a3,Nbd7,c4,b6,Nc3,Bb7,cxd5,cxd5,Bb5,Rc8,Qa4,a6,Bxd7+,Nxd7,Ne5,b5,Qd1,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/ayfIG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AYfPt', 'Rapid', 'tialaingo', 1944, 'phil1749', 2072, 'e4,Nf6,Nc3,e5,Nf3,Nc6,Bc4,Be7,d3,O-O,Bg5,d6,Qd2,Nd4,h4,c6,Ne2,Nxe2,Qxe2,b5,Bb3,a5,a3,a4,Ba2,Be6,Qd2,Bxa2,Rxa2,Qd7,Ra1,Qg4,Kf1,h6,Be3,Nh5,Rh3,f5,Nh2,Qg6,exf5,Qxf5,Rf3,Qe6,Rh3,Nf4,Bxf4,Rxf4,h5,Raf8,f3,Bg5,Qe2,Qf5,Re1,g6,hxg6,Qxg6,Rg3,Kh7,Qf2,Bh4,Qa7+,R8f7,Rxg6,Rxa7,Rxd6,Bxe1,Kxe1,Rc7,Ng4,h5,Nf6+,Kh8,Nxh5,Rh4,Rh6+,Kg8', 'Nf6+,Kg7,Rxh4', 'https://lichess.org/training/AYfPt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AyHiQ', 'Rapid', 'comodo00', 2256, 'CM Floman', 2300, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,Nc3,b5,Bb3,Be7,O-O,O-O,d3,d6,Nd5,Na5,Nxe7+,Qxe7,Bg5,Nxb3,axb3,h6,Bh4,Bg4,h3,Bh5,Qe2,g5,Bg3,Nd7,Qe3,Bxf3,Qxf3,Qf6,Qg4,Qe6,Qh5,Kg7,f3', 'Nf6,Qg4,Nxg4', 'https://lichess.org/training/AyHiQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ayhje', 'Classical', 'Malyuta_Pavel', 1772, 'Ib400', 1783, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,Nf6,Nc3,d6,Bg5,e6,Bb5,a6,Ba4,b5,Bb3,Be7,Nf3,h6,Bh4,Bb7,O-O,g5,Bg3,b4,Ne2,Nxe4,Ned4,O-O,Nxc6,Bxc6,Qd4,Bf6,Qc4,Bb7,Rad1,a5,Qb5,Ba6,Qc6,d5,Rfe1,Bxb2,Be5,Nc3,Bxc3,Bxc3,Re3,Qb8,a3,Bb7,Qb6,Ra6,Qb5,Qa8,Qd3,Rd8,Nxg5,hxg5,Rh3,f5,Qe3,f4,Qd3,Rd7,Qg6+,Rg7,Qh6,d4,Bc4,Rb6,axb4,Qe8,bxa5,Qc6,axb6', 'Qxg2#', 'https://lichess.org/training/Ayhje');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AyiiH', 'Rapid', 'blindpauper', 1854, 'Endyium', 1896, 'e4,e5,Bb5,c6,Bc4,d5,exd5,cxd5,Bb3,Nf6,a3,Bc5,d3,Ng4,Nh3,Qh4,Rf1,Nxh2,Bg5,Qd4,Nc3,h6,Bh4,Qxh4,Qe2,Nxf1,Qxf1,Bxh3,gxh3,d4,Ne4,Be7,O-O-O,O-O,Qg2,Nd7,Rg1,Qf4+,Kb1,g6', 'Qxg6+,Kh8,Qg7#', 'https://lichess.org/training/AyiiH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aYiNa', 'Rapid', 'ghandii_ba', 1723, 'FADIALDAIM', 1649, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bg5,Nbd7,e3,h6,Bh4,g5,Bg3,Bb4,Bd3,Ne4,Qc2,Nxg3,hxg3,Nf6', 'Qa4+,c6,Qxb4', 'https://lichess.org/training/aYiNa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AyIRh', 'Blitz', 'CM tainha', 2277, 'Chaos-Tik', 2126, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Bc4,O-O,Bb3,Ng4,Qxg4,Nxd4,Qd1,Nxb3,axb3,b6,Bd4,Bb7,Bxg7,Kxg7,O-O,d6,Qd4+,Kg8,Rfe1,Qc7,Re3,Rfc8,Rh3,Qc5,Qd2,Qe5,f4,Qc5+,Kh1,f5,exf5,Qxf5,Kg1,Rf8,Ne2,a5,Re3,e5,Qxd6,exf4,Qe6+,Qxe6,Rxe6,f3,gxf3,Bxf3,Nd4,Rab8,Rf1,Bd5,Rxf8+,Kxf8,Rd6,Be4,Kf2,b5,Ke3,Re8,Re6,Bf5', 'Rxe8+,Kxe8,Nxf5', 'https://lichess.org/training/AyIRh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aYIZb', 'Rapid', 'CUGWuhan66', 1848, 'chingylov', 1991, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e3,Bg7,Bc4,Nxc3,bxc3,O-O,Nf3,c5,O-O,Nc6,Ba3,cxd4,cxd4,Bg4,h3,Bf5,Rc1,Na5,Bd3,Bxd3,Qxd3,a6,Qe4,Re8,Qf4,b5,Ng5,Rf8,Rc7,e5,Qh4,h6,Bxf8,hxg5,Qe4,Bxf8,Rfc1,Nc4,dxe5,Qxc7,Qxa8,Qxe5,Qxa6,Kg7,a4,Bd6,g3,Nxe3,axb5,Nf5,Qc6,Nxg3,fxg3,Qxg3+,Qg2', 'Qe3+,Kh1,Qxc1+', 'https://lichess.org/training/aYIZb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aYJ3h', 'Rapid', 'stefen23', 1803, 'bebzzz', 1978, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nc6,Nc3,Nf6,Bb5,a6,Ba4,b5,Bb3,Bg4,h3,Bxf3,Qxf3,Nxd4,Qd3,Nxb3,axb3,e6,O-O,Be7,Be3,O-O,Rfe1,h6,Rad1,Bb4,Qe2,Rc8,Rd4,Bxc3,bxc3,Rxc3,Bxh6,gxh6,Qd2,Rc7', 'Qxh6,Ne4,Rexe4', 'https://lichess.org/training/aYJ3h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ayjij', 'Rapid', 'EaFly', 1952, 'cipri', 1895, 'Nc3,c6,Nf3,d5,d3,Bg4,h3,Bh5,g4,Bg6,Ne5,d4,Nxg6,hxg6,Ne4,f5,gxf5,gxf5,Ng3,Qd5,Rg1,e6,Bg2,Qb5,c3,Nd7,a4,Qa5,b4,Qe5,f4,Qf6,b5,dxc3,bxc6,bxc6,Bxc6,Rc8,Bxd7+,Kxd7,Qb3,Rxh3,Qb7+,Rc7,Qb5+,Kc8', 'Qe8+,Qd8,Qxe6+', 'https://lichess.org/training/ayjij');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AYLOC', 'Rapid', 'zatrikion', 1793, 'shiralli', 1687, 'd4,d5,Nf3,Nc6,a3,Nf6,h3,g6,e3,Bg7,Bd3,O-O,c3,e6,Nbd2,Re8,e4,b6,e5,Nh5,O-O,f6,exf6,Qxf6,Re1,Bb7,Nf1,Nf4,Bxf4,Qxf4,Ng3,e5,dxe5,Nxe5,Nd4,c5,Nc2,d4,cxd4,cxd4,Ne2,Qg5,Ng3,Nxd3,Qxd3,Bd5,Rxe8+,Rxe8,Re1,Rf8,Nb4,Bb7,Nc2,Qf6,Re2,a6,b4,a5,Ne4,Qc6,Nxd4,Qc1+,Kh2,Bxd4,Qxd4,Qxa3,bxa5,bxa5,Qc4+,Kg7,Qd4+,Kg8,Qc4+,Rf7,Ng5,Qd6+,g3,Bd5,Nxf7', 'Bxc4,Nxd6,Bxe2', 'https://lichess.org/training/AYLOC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ayPXU', 'Rapid', 'sebavivar', 1711, 'CarRadovan', 1754, 'd4,d5,c4,Nf6,Nc3,e6,Bg5,Be7,cxd5,Nxd5,Bxe7,Qxe7,e4,Nxc3,bxc3,O-O,Bd3,c5,Nf3,Nc6,O-O,e5,d5,c4,Bxc4,Na5,Bd3,b6,c4,Bg4,h3,Bh5,Be2,Bg6,Qc2,f5,Bd3,Rac8,exf5,Bf7,Rfe1,b5,Nxe5,bxc4,Nxf7,Qxf7,Be4,Qf6,Qa4,Nb7,Qxa7,Nc5,Bc2,Rfe8,Rxe8+,Rxe8,Qxc5,Qxa1+,Kh2,c3,d6,Qc1,Qxc3,Qf4+,g3,Qxd6,Bb3+,Kh8,a4,h6,a5,Qb8,a6,Re2,Qd4,Qxb3,a7,Qa2', 'Qd8+,Kh7,a8=Q,Qxa8,Qxa8', 'https://lichess.org/training/ayPXU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AYQhn', 'Rapid', 'Borisba', 1883, 'hazemtaher', 1730, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Bc5,O-O,d6,h3,O-O,a3,Be6,Bxe6,fxe6,b4,Bb6,Bb2,a5,b5,Nd4,a4,d5,d3,dxe4,dxe4,Nxf3+,Qxf3,Bd4,Ba3,Rf7,Rad1,Nd5,Qxf7+,Kxf7,exd5,exd5,Rd3,Qf6,Nxd5,Qg6', 'Rf3+,Ke6,Nxc7+,Kd7,Nxa8', 'https://lichess.org/training/AYQhn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AyQLy', 'Rapid', 'raulg', 1707, 'ukuko', 1608, 'd4,b6,c4,Bb7,Nc3,e6,e3,Bb4,Bd2,Nf6,Nf3,O-O,Be2,Nc6,a3,Bxc3,bxc3,a5,O-O,d5,cxd5,Qxd5,c4,Qe4,Bc3,Ne7,Bd3,Qg4,Be2,Ne4,Ne5,Qg5,Be1', 'Nc3,Bf3,Nxd1', 'https://lichess.org/training/AyQLy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aYRfR', 'Rapid', 'fransizsavunmasi26', 2029, 'coffe858', 1961, 'b4,Nf6,Bb2,d6,Nf3,e5,d4,exd4,Nxd4,Be7,e3,c5,bxc5,dxc5,Nf3,Qxd1+,Kxd1,O-O,Bd3,Bg4,Ke2,Nc6,h3,Bxf3+,Kxf3,Rac8,g3,Nd7,Kg2,Bf6,Bxf6,Nxf6,Nc3,a6,Ne4,Nxe4,Bxe4,Rfe8,Bxc6,Rxc6,Rab1,b5,Rhd1,Rec8,Rd7,Kf8,Rbd1,c4,Ra7,R8c7,Rd7,Rxd7,Rxd7,a5,a3,b4,axb4,axb4,Rb7', 'b3,cxb3,c3,Ra7,c2', 'https://lichess.org/training/aYRfR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AyrOt', 'Classical', 'yeminthu', 1820, 'putradhiara', 1828, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,a6,Bxc6,dxc6,Nxe5,Be7,Nc3,O-O,d4,Be6,Bg5,h6,Bxf6,Bxf6,Nf3,Bg4,d5,cxd5,exd5,Qd6,Qd3,Bxf3,Qxf3,Be5,Ne4,Qe7,c3,f5,Ng3,Qg5,Rfe1,Bd6,Rad1,g6,a3,Rfe8,Re6,Rxe6,dxe6,Re8,Qxb7,Qf6,Qxa6,Qxe6,Nf1', 'Bxh2+,Nxh2,Qxa6', 'https://lichess.org/training/AyrOt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aYsid', 'Blitz', 'CikaCrni', 1967, 'mbaresaib', 1836, 'd4,Nf6,c4,e6,Nc3,Be7,e4,d6,f4,Nbd7,Nf3,c6,Bd3,O-O,O-O,a6,e5,dxe5,fxe5,Nh5,Ne1,g6,Qg4,f5,exf6,Ndxf6,Qh3,Qxd4+,Kh1,Qg4,Qxg4,Nxg4,Rxf8+,Bxf8,h3,Nf2+,Kg1,Bc5,Kf1,Ng3+,Kg1,Nxd3+,Kh2,Nxe1,Kxg3,Bd6+,Kf2,Nd3+,Ke3,Nxc1,Rxc1,Bd7,Rd1,Bc5+,Ke2,Rd8,Ne4,Be7,b3,Kf8,Rf1+,Ke8,c5,Bh4', 'Nd6+,Ke7,Rf7#', 'https://lichess.org/training/aYsid');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AysoF', 'Rapid', 'CripyPasta2', 1849, 'Hd1985', 1779, 'e4,e5,Nf3,Nc6,Nc3,Bc5,Nxe5,Nxe5,d4,Bxd4,Qxd4,Qf6,Be3,d6,O-O-O,Be6,Nd5,Bxd5,exd5,b6,Re1,O-O-O,Ba6+,Kb8,Qc3,Ne7,h4,Nxd5,Qd4,Nxe3,Rxe3,Nc6,Qc4,Na5,Qe4,Qxf2,b4,Rde8', 'Qxe8+,Rxe8,Rxe8#', 'https://lichess.org/training/AysoF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aYUvI', 'Blitz', 'FM HustlinHarper', 2413, 'kingph31', 2269, 'e4,e5,Nf3,Nc6,Bb5,d6,d4,exd4,Nxd4,Bd7,O-O,Nf6,Nc3,Be7,Re1,O-O,Bf4,h6,Bxc6,bxc6,e5,Nh7,Bg3,d5,e6,fxe6,Nxe6,Bxe6,Rxe6,Bf6,Qe2,Qd7,Re1,Bd8,h4,Nf6,f3,c5,Qb5,d4,Qxd7,Nxd7,Nd5,Rc8,Ne7+,Bxe7,Rxe7,Rfd8,R1e6,Kf8,Kh2,a5,b3,a4,Kh3,axb3,axb3,Nb6,Rxc7,Nd5,Rxc8,Rxc8,Bd6+,Kf7,Re5,Nb4,Re7+,Kf6,Re2,Nd5,g4,g5,hxg5+,hxg5,Kg3,Rc6,Be5+,Kg6,f4,gxf4+,Bxf4,Nb4,Rh2,c4,Rh6+,Kf7,Rxc6,Nxc6,bxc4,Ke6,Bd2,Ne5,c5,Kd5,Bb4,Kc4,Ba3,Kc3,Kf4,Nc6,Ke4,Kxc2,Kd5', 'd3,Kxc6,d2', 'https://lichess.org/training/aYUvI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ayVUI', 'Rapid', 'danpaez', 1634, 'calvingoh', 1680, 'e4,g6,Bc4,Bg7,c3,Nf6,d3,d6,Nd2,O-O,h3,Nbd7,a3,a6,Ba2,b5,b4,c5,Ndf3,Bb7,Ne2,Nh5,O-O,Kh8,Ng3,Nxg3,fxg3,Bxc3,Rb1,Ne5,Nxe5,Bxe5,Bb2,Bxb2,Rxb2,cxb4,axb4,e6,Rbf2,Qb6,Kh1,Qc7,Qa1+,Kg8,Qf6,d5,exd5,exd5,d4,Bc8,Bxd5,Ra7,Qg5,Qd6,Rf6,Qd8,Qe5,Re7,Qg5,Rd7,Bb3,Bb7,Qc5,Rc7,Qe5,Re7,Qc5,Rc7,Qb6,Qc8,d5,Rd7,d6,Rxd6,Qxd6', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/ayVUI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ayWHO', 'Rapid', 'PAZRaje', 1621, 'miliccc', 1799, 'e4,e5,Nf3,Nc6,Bb5,d6,Nc3,Nf6,Bxc6+,bxc6,d3,Bg4,Bg5,Be7,h3,Bh5,Qd2,Bxf3,gxf3,d5,h4,d4,Ne2,h6,Bxf6,Bxf6,h5,Be7,f4,f6,fxe5,fxe5,Ng3,Bg5,Qe2,O-O,Nf5,Qb8,b3,Qb4+,Kf1,Rf7,Rg1,Rxf5,exf5,Rf8,Rxg5,hxg5,Qg4,Qe7,Ke2,Qf6,Rg1,Qxf5,Qxg5,Qf3+,Kd2,Qxf2+,Kc1,Qf6,h6,Qf4+,Kb2,Qxg5,Rxg5,Rf7,Rxg7+,Rxg7,hxg7,Kxg7,Ka3,Kf6,Kb2,Ke6,Kc1,Kd5,Kd2,c5,Ke2,Ke6,Kf3,a5,Kg4,Kf6,a3,Kg6,Kf3,Kf5,Ke2,Kf4,Kd2,e4,dxe4,Kxe4,Ke2,c6,Kd2,Kf3', 'Kd3,Kf2,Kc4', 'https://lichess.org/training/ayWHO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AYxb3', 'Rapid', 'rocketronnie', 1650, 'bobbysatpuli', 1650, 'e4,c5,Bc4,Nc6,Nf3,d6,c3,Bg4,O-O,Qd7,d3,h5,Nbd2,h4,Bxf7+,Kxf7,Ng5+,Ke8,f3,Bh5,Qe1,h3,Nxh3,Bf7,Ng5,g6,Nxf7,Kxf7,f4,Nf6,e5,Ng4,Nf3,Qf5,h3,Nh6,Ng5+,Ke8,Qe3,Kd7,e6+,Kc7,Qf3,Bg7,g4,Qf8,d4,cxd4,Bd2,Rd8,Rac1,Kb8,c4,Qg8,b4,d3,Qxd3,Nd4,Be3,Nxe6,Qa3,Bd4', 'Nxe6,Bxe3+,Qxe3', 'https://lichess.org/training/AYxb3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AyxZs', 'Rapid', 'Cvetadol28', 1629, 'nguyenlinh', 1604, 'e4,c5,Nf3,Nf6,e5,Nd5,Bc4,Nb6,Bxf7+,Kxf7,Ng5+,Ke8,Qf3,d6,e6,Bxe6,Nxe6,Qd7,Ng5,Nc6', 'Qf7+,Kd8,Ne6+,Kc8,Nxf8', 'https://lichess.org/training/AyxZs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aYy0f', 'Rapid', 'forty3030', 1754, 'Volcanoic', 1740, 'e4,e5,Nf3,f6,Nc3,c6,d3,Bc5,d4,exd4,Nxd4,Ne7,Ne6,dxe6,Qxd8+,Kxd8,Bd2,Na6,a3,Bd6,O-O-O,Kc7,Bxa6,bxa6,Na4,Bd7', 'Ba5+,Kc8,Rxd6', 'https://lichess.org/training/aYy0f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ayzET', 'Blitz', 'Dug_Polk', 2401, 'FM lexisvar', 2503, 'd4,Nf6,Nf3,e6,Bg5,Be7,Nc3,c5,d5,exd5,Nxd5,Nxd5,Qxd5,O-O,e3,Nc6,Bd3,Nb4,Bxe7,Qxe7', 'Bxh7+,Kxh7,Qh5+,Kg8,Ng5', 'https://lichess.org/training/ayzET');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Az3e9', 'Blitz', 'mohnishsinha', 1910, 'omar38', 1900, 'e4,c5,Nf3,d6,c3,Nf6,Bd3,g6,O-O,Bg7,Bc2,O-O,d4,cxd4,cxd4,Bg4,Nc3,Nbd7,Bg5,Rc8,h3,Bh5,Bxf6,Nxf6,g4,Nxg4,hxg4,Bxg4,Qd3,h5,Rac1,Qd7,Ba4,Qe6,d5,Qf6,Bd1,h4,Nh2,Bxd1,Qxd1,Bh6,Rc2,Kg7,Ng4,Qg5,f4,Qh5,Rg2,Kh7,Qd3,f5,Nxh6,Qxh6,e5,Rg8,exd6,exd6,Qd4,b6,Rh2,Rcf8,Qf2,g5,fxg5,Rxg5+,Kh1,Kg7,Rh3,Qg6,Rxh4,Rh8,Rxh8,Kxh8,Qh2+,Rh5,Qxh5+,Qxh5+,Kg2,Qg4+,Kf2,f4', 'Rh1+,Kg7,Rg1,Qxg1+,Kxg1', 'https://lichess.org/training/Az3e9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aZ3UW', 'Rapid', 'aueinbl', 1665, 'Ishvinay', 1724, 'd4,d5,Nf3,Nf6,Bg5,Ne4,e3,f6,Bh4,c5,Nbd2,Qa5,c3,Bf5,Nxe4,Bxe4,a4,e6,Bb5+,Nc6,O-O,Bd6,Nd2,Bg6,Nb3,Qc7,Nxc5,O-O,Nxe6,Bxh2+,Kh1,Qd6,Nxf8,Rxf8,Bxc6,bxc6,f4,Bxf4,Rxf4,Re8,Rf3,Be4,Rh3,Qe6,Qh5', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/aZ3UW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Az5Ne', 'Rapid', 'dangerouscandles', 2056, 'anderson51', 2167, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,a6,Bc4,d6,O-O,Nf6,Qe2,Bg4,Bf4,e6,Rfd1,Qb8,h3,Bxf3,Qxf3,Ne5,Bxe5,dxe5,g4,h6,h4,Bc5,g5,hxg5,hxg5,Nh5,b4,Be7,g6,Nf4,gxf7+,Kxf7,Qg4,Rh4,Qf5+,Bf6,Bxe6+,Nxe6,Rd7+,Kg8,Qxe6+,Kh8,Nd5,Qf8,Rf7,Qd8,Nxf6,gxf6,Rd7', 'Qg8+,Qxg8+,Rxg8+,Kf1,Rh1+,Ke2,Rxa1', 'https://lichess.org/training/Az5Ne');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aZ6Wc', 'Rapid', 'iScownerOFF', 2081, 'Shadyasal', 2042, 'd4,d5,c4,c6,cxd5,cxd5,Nf3,Bf5,e3,Nf6,Bd3,Bxd3,Qxd3,e6,Nc3,a6,a3,Bd6,e4,dxe4,Nxe4,O-O,Bg5,Be7,Bxf6,Bxf6,Nxf6+,Qxf6,O-O,Nc6,Rad1,Rfd8,b4,Rd5,Rfe1,Rad8,Re4,h6,Qd2,e5,Qb2,exd4,Rd3,Qf5,Qe2,Qf6,h3,b5,h4,g6,Qd2,Kg7,g3,Qf5,Rf4,Qe6,g4,Ne5,Nxe5,Qxe5,h5,g5,Rf5,Qe4,f3,Qe6,Rxd5,Rxd5,Kg2,Qe5,Qb2,Rd6,Qd2,f6,Qc2,Rd7,Rd2,Rc7,Qg6+,Kf8,Qxh6+,Ke7,Qh7+,Ke6,Qg6,Rc3,h6,d3,h7,Qe3,h8=Q,Qxd2+,Kh3,Qf4,Qgg8+,Ke5,Qe8+,Kd4,Qxf6+,Qxf6', 'Qe4#', 'https://lichess.org/training/aZ6Wc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aZ8W1', 'Rapid', 'Sandipan_INDIA', 1781, 'sausage2807', 1804, 'd4,Nf6,Bg5,e6,e3,h6,Bh4,Be7,c4,b6,Qf3,Nc6,Nh3,Rb8,Qg3,Ne4,Qxg7,Rf8,Bxe7,Qxe7,a3,Bb7,Bd3,Nf6,Qxh6,Rg8,O-O,Ng4,Qh7,Qf8,Nf4,Ke7,Ng6+,Rxg6,Bxg6,Qg8,Qxg8,Rxg8,Bd3,Kd8,Nd2,Ne7,Rae1,Nxe3,f3,Nxg2,Kf2,Nxe1,Kxe1,Rg2,Be4,Bxe4,fxe4,Rxh2,Rxf7,Rh1+,Ke2,Nc6,Kd3,Rh3+,Rf3,Rxf3+,Nxf3,Ke7,d5,exd5,exd5,Nd8,Ke4,c6,Ne5,cxd5+,Kxd5,d6', 'Nc6+,Nxc6,Kxc6', 'https://lichess.org/training/aZ8W1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aZ8yh', 'Rapid', 'undsiebewegtsichdoch', 1802, 'Marx2017', 1700, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,b6,a3,Bb7,Bg5,Be7,Nbd2,O-O,Qe2,h6,Bh4,a6,h3,d5,exd5,Nxd5,Bxe7,Ndxe7,Ne4,Kh8,g4,f5,gxf5,Nxf5,O-O-O,Nfd4,Nxd4,exd4,Rhg1,b5,Qg4,Qe7,Bd5,Ne5,Qxg7+,Qxg7,Rxg7,Kxg7,Bxb7,Ra7,Bd5,c6,Ba2,a5,Nc5,Rxf2,Ne6+,Kh7,Rg1,Nf3', 'Nf8+,Kh8,Rg8#', 'https://lichess.org/training/aZ8yh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AzAJG', 'Rapid', 'goran9000', 1851, 'marzio', 2037, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,g6,Nc3,Bg7,Bd2,d6,Nf3,Nf6,Bd3,O-O,h3,a6,a3,b5,b4,Bb7,Rb1,Rc8,Nd5,Nd7,Bc3,f6,g4,e6,Nf4,Nce5,Nxe6,Nxf3+,Qxf3,Qe7,Nxf8,Rxc3,Nxd7,Qxd7,h4,f5,gxf5,gxf5,Qxf5', 'Qxf5,exf5,Bxh1', 'https://lichess.org/training/AzAJG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aZbE9', 'Rapid', 'Adiinfo', 2333, 'Bidondessence', 2143, 'e4,e5,Bc4,Nf6,d3,Nc6,Nf3,h6,c3,g6,O-O,Bg7,d4,Qe7,d5,Nb8,Bd3,d6,c4,Nbd7,Nc3,a5,a3,O-O,Rb1,Nc5,Bc2,b6,b4,axb4,axb4,Ncd7,Bb2,Nh5,Ra1,Bb7,Qd2,f5,Rxa8,Bxa8,exf5,gxf5,Nb5,e4,Bxg7,Qxg7,Nfd4,Ne5,Kh1,Nxc4,Qc3,Bxd5,Bb3,Nf4,g3,e3+,f3,e2,Re1,c5,Bxc4,Bxc4,Qxc4+,d5,Qc1', 'Nd3,Qd2,Nxe1', 'https://lichess.org/training/aZbE9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AzdjY', 'Rapid', 'borgogniels', 1741, 'radaam', 1671, 'e4,d5,exd5,Qxd5,Nf3,Bg4,Be2,Bf5,Nc3,Qd6,d4,Nc6,O-O,Nb4,a3,Nxc2,Nb5,Qc6,Ne5,Qb6,g4,Be4,f3,Nxa1,fxe4,Nf6,Bd3,a6,Qa4,c6,Nc3,Rd8,Be3,Qxb2,Bxa6,Qxc3,Bg5,Rxd4,Nc4,h6,Bxf6,gxf6,Bxb7,Rxc4,Qa8+,Kd7,Rd1+,Ke6', 'Qc8+,Ke5,Qf5#', 'https://lichess.org/training/AzdjY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AzE3h', 'Blitz', 'ErmalIsufi', 2200, 'kleiner-feigling', 2121, 'e4,g6,d4,Bg7,c3,d6,f3,Nf6,Bd3,e5,Ne2,O-O,O-O,exd4,cxd4,c5,d5,Na6,Nbc3,Nb4,Bb1,Bd7,a3,Na6,Qe1,b5,Bf4,Qb6,Kh1,b4,axb4,cxb4,Nd1,Nc5,Ne3,Bb5,Rf2,Nh5,Bg3,Nxe4,fxe4,Qxe3,Bxd6,Rfe8,Bxb4,Bd4,Nxd4,Qxd4,Bc3,Qc5,Ra5,a6,Bd3,Rad8,b4,Qc7,Qf1,Qxc3,Bxb5,axb5,Rxf7,Qxb4,Raa7,Qxe4', 'Rg7+,Nxg7,Qf7+,Kh8,Qxg7#', 'https://lichess.org/training/AzE3h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AzE6G', 'Blitz', 'Outstanding_GM', 1529, 'ryangray4', 1531, 'd4,Nf6,Nf3,d5,e3,Nc6,Bd3,Nb4,Be2,Bf5,O-O,Nxc2,Bd3,Bxd3,Qxd3,Nxa1,b3,e6,Bb2,Nxb3,axb3,Bd6,Rc1,O-O,Nbd2,Ng4,h3,Nf6,e4,dxe4,Nxe4,Nxe4,Qxe4,c6,Rc3,g6,Ne5,f5,Qe3,f4,Qe4,Rf5,Nf3,h6,Qxe6+,Kh7,g4,Rf6,Qe4,Qe8,Qd3,Qd7,d5,Rf7,dxc6,bxc6,Rc4,Re8,h4,Qxg4+,Kf1,Qh3+,Kg1,Rfe7', 'Ng5+,hxg5,Qxh3,g4,Qxg4', 'https://lichess.org/training/AzE6G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AzECi', 'Rapid', 'yassined', 1685, 'marco1986', 1861, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,e6,Bc4,d6,Nf3,Nf6,O-O,g6,Bg5,Bg7,Nc3,O-O,Qe2,a6,Rad1,Qc7,Bf4,e5,Bg3,b5,Bd5,Rb8,a3,b4,axb4,Nxb4,Bc4,a5,b3,Bb7,Bh4,Rbc8,Bxf6,Bxf6,Rd2,Rcd8,Rfd1,Bg7,Bd5,Ba6,Qe3,h5,Ng5,Bh6,Qg3,Kg7,Bxf7,Bxg5,Qxg5,Rxf7,Nd5,Nxd5,Rxd5,Rdf8', 'Rxd6,Rf6,Rd7+,Qxd7,Rxd7+', 'https://lichess.org/training/AzECi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aZFk2', 'Classical', 'CathGirlsBeCray', 1671, 'moksha_nasik', 1640, 'e4,e5,Nf3,Bc5,Bc4,Bxf2+,Kxf2,d6,d4,Nf6,Bg5', 'Nxe4+,Kg1,Nxg5', 'https://lichess.org/training/aZFk2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aZfm2', 'Rapid', 'Gianfranco14', 1726, 'GuusvdGoes', 1683, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Nf6,d4,Bf5,Bd2,c6,Bc4,e6,Bb3,Bb4,O-O,O-O,a3,Be7,Nd5,Qd8,Nxf6+,Bxf6,Bf4,Nd7,Re1,h6,Qd2,Kh7,Rad1,Nb6,Qe3,Nd5,Bxd5,cxd5,Ne5,Bxc2,Rd2,Rc8', 'Rxc2,Rxc2,Qd3+,Kg8,Qxc2', 'https://lichess.org/training/aZfm2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aZHJB', 'Rapid', 'antonsepdi', 1791, 'gancangpmlarosa87', 1662, 'e4,c5,Nf3,e6,b3,d6,Bb2,Nf6,d3,Nc6,Be2,h6,c3,Be7,Nbd2,Bd7,O-O,O-O,d4,cxd4,cxd4,Nb8,e5,dxe5,dxe5,Nd5,Bc4,Nc6,h3,f6,Qc2,Be8,Bd3,Qc7,Nc4,fxe5,Ncxe5,Bf6,Nxc6,bxc6,Rab1,Rc8,Bxf6,Rxf6,Bc4,Bf7,Rbc1,Nf4,Qe4,Bg6,Qe5,Qxe5,Nxe5,Be4,f3,Bd5,Ng4,Rff8,Ne3,Bxc4,Rxc4,e5,Re1,h5,Nf1,Nd3,Re3,Rfd8,Ng3,g6,Ne4,Kg7,Ng5,Kf6,Ne4+,Kf5,Ng3+,Ke6,Ne4,Nb2,Rc2,Nd1,Rec3,Nxc3,Rxc3,Kf5,Rc5,Rd5', 'Rxd5,cxd5,Nd6+,Ke6,Nxc8', 'https://lichess.org/training/aZHJB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aZJ5s', 'Rapid', 'e_fil', 1648, 'MrMano', 1685, 'd4,d5,c4,e6,e4,dxe4,d5,exd5,cxd5,Nf6,Nc3,h6,Bb5+,c6,dxc6,Qxd1+,Kxd1,bxc6,Ba4,Bc5,Nh3,Ng4,Nxe4,Bb6,Re1,O-O,f3,Nxh2,Nf4,Rd8+,Bd2,Bf5,Rc1,Ba5,Bxc6,Nxc6,Rxc6,Bxd2,Nxd2,Rab8,b3,Bb1,Ra6,Rb7,Rh1,Nxf3,gxf3,Rc7,Ke2,Rc2,Rxb1,Rcxd2+,Ke3,g5,Ne2,R2d3+,Kf2,R8d7,Kg3,Kg7,b4,h5,b5,h4+,Kg4,f6,a4,Rd2,Re1,Kg6,a5,Rb2,b6,axb6,axb6,Rb7,Nc3,Rb4+,Re4', 'f5+,Kh3,fxe4', 'https://lichess.org/training/aZJ5s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AzJcU', 'Blitz', 'FM eksponat777', 2449, 'FM Majasystem', 2445, 'd4,d5,Nf3,Nf6,c4,dxc4,Nc3,e6,e4,Bb4,Qa4+,Nc6,Bxc4,Nxe4,O-O,Nxc3,bxc3,Be7,Bf4,O-O,Rfe1,Bd7,Qc2,Bf6,Bd3,g6,Rab1,b6,Bh6,Re8,h4,Ne7,Bg5,Nf5,Bxf5,exf5,Rxe8+,Bxe8,Re1,Bxg5,hxg5,Bc6,Ne5,Be4,Qd2,f6,gxf6,Qxf6,f3,Bd5,a3,Re8,c4,Bf7,f4,c5,d5,g5,fxg5,Qd6,Nf3,Re4,Rxe4,fxe4,Nh4,Qe5,Qf2,e3,Qf6,Qd4', 'Qd8+,Kg7,Nf5+,Kg6,Nxd4', 'https://lichess.org/training/AzJcU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AzKmV', 'Blitz', 'E1978', 1914, 'AttractionSacrifice', 1934, 'e4,c5,Nf3,e6,Bc4,a6,a3,b5,Ba2,Bb7,d3,Qc7,O-O,d6,Be3,Nd7,Qe2,Rc8,c3,Ngf6,Nbd2,Be7,Bg5,O-O,d4,cxd4,cxd4,Qb8,Rac1,Rfe8,h3,h6,Bh4,Qa8,Rfe1,Rxc1,Rxc1,Nxe4,Nxe4,Bxe4,Bxe7,Bxf3,Qxf3,Qxf3,gxf3,Rxe7,Rc8+,Kh7,Bb1+,g6,Rc7,Kg7,Kf1,Kf6,Ke2,Nb6,Rxe7,Kxe7,Bd3,Nd5,h4,Nf4+,Kd2,Nxd3,Kxd3,e5,Ke4,exd4,Kxd4,Ke6,Ke4,d5+,Kf4,f5,b4,Kd6,Ke3,Ke5,f4+,Kd6,Kd4,Ke6,Kc5,g5,hxg5,h5,g6,Kf6,Kxd5,h4,Kd4,Kxg6,Ke3,Kh5,Kf3,h3,Kg3,h2,Kxh2,Kg4,Kg2,Kxf4,f3,Ke3', 'Kg3,Kd3,Kf4,Kc4,Kxf5', 'https://lichess.org/training/AzKmV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Azlbi', 'Rapid', 'Florinmaestru', 1658, 'Astral_11', 1706, 'e4,e5,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb6,e5,Ng8,f4,d5,Bb3,Nc6,Nf3,Bg4,O-O,Ba5,h3,Bh5,g4,Bg6,f5,Bb6,fxg6,hxg6,Ng5,Bxd4+,Kh1,f6,exf6,gxf6,Ne6,Qd6,Nxd4', 'Rxh3+,Kg1,Qh2#', 'https://lichess.org/training/Azlbi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AZogC', 'Rapid', 'MMMerlin', 1709, 'MoonTreeDryad', 1687, 'e4,e5,Nf3,Nf6,d3,Nc6,g3,Bc5,Bg2,h6,O-O,O-O,c3,d5,exd5,Nxd5,d4,exd4,cxd4,Be7,Nc3,Bf6,Be3,Nde7,b4,Nxb4,a3,Nbc6,a4,Bg4,Qd2,Nf5,d5,Nce7,Rab1,b6,Bf4,Bxc3,Qxc3,Nxd5,Qc6,Nxf4,gxf4,Rc8,Rbd1,Qe7,Rd7,Qb4,Rxc7,Rxc7,Qxc7,Qxa4,Nd2,Qb4,Ne4,Nh4,f3,Nxg2,Kxg2,Bf5,Qe5,Bxe4,fxe4,a5,Kh1,a4,Rg1,g6,h4,Qb3,Qf6,Qf3+,Rg2,Qxe4,h5,a3,f5,g5,Qxh6,a2', 'Qxg5+,Kh7,Qg7#', 'https://lichess.org/training/AZogC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('azohu', 'Rapid', 'yogibaba', 1777, 'pyro22', 1889, 'c4,d6,Nf3,Nd7,g3,g6,Bg2,e5,d3,Bg7,Nc3,c6,O-O,f5,Nh4,Ngf6,e4,f4,Re1,O-O,Bd2,fxg3,fxg3,Nc5,Be3,Bg4,Qd2,Ne6,h3,Bh5,g4,Nxg4,hxg4,Bxg4,Bf2,Bf6,Nf3,Bxf3,Bxf3,Bg7,Qe2,Nf4,Qf1,Qg5+,Kh1,Qh6+,Kg1,Nh3+,Kg2,Rxf3,Kxf3,Rf8+,Ke2,Rxf2+,Qxf2,Nxf2,Kxf2,Qf4+,Ke2,Qg4+,Kd2,Bh6+,Kc2,Qg2+,Kb3,Qf2,Re2,Qb6+,Kc2,a5,Rh1,Bf4,Kb1,Qc7,Na4,b5,cxb5,cxb5,Rc2,Qb7,Nc3,h5,Nd5,g5,Nxf4,gxf4,Rxh5,Qf7,Rch2,Qg7,Rc2,f3', 'Rc8+,Kf7,Rc7+', 'https://lichess.org/training/azohu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AzoNl', 'Classical', 'chichess01', 1631, 'Nybudi', 1655, 'e4,e6,e5,d6,exd6,Bxd6,d4,Nc6,Nf3,h6,Bb5,Bd7,O-O,Nf6,c3,a6,Ba4,b5,Bc2,Na5,b3,O-O,Be3,Bc6,Nbd2,Nb7,Ne5,Qe8,Nxc6,Qxc6,c4,bxc4,Nxc4,Bb4,Rc1,Qe8,Qf3,Rb8,Bxh6,Nd6,Nxd6,Bxd6,Bg5,Nh7,Be3,Be7,Qe4,Nf6,Qd3,Rb5,Bg5,Rxg5,f4,Rh5,g4,Rh8,g5,Ng4,h3,c5,hxg4,cxd4,Qxd4,Qa8,Be4,Qb8,Rc2,Rd8,Qe3,Bb4,Kg2,Qb5,Rc4,Rd2+,Rf2,Rd1,Qc3,Bf8,f5,Rhh1,fxe6,Rdg1+,Kf3,Rh3+,Ke2,Rxc3', 'exf7+,Kh8,Rh2+,Rh3,Rxh3#', 'https://lichess.org/training/AzoNl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aZpGd', 'Blitz', 'shabisahi', 1877, 'egon_hubert', 1857, 'd4,d5,Nf3,Nf6,Bf4,Bf5,e3,e6,c4,c5,Nc3,Nc6,cxd5,Nxd5,Nxd5,Qxd5,dxc5,Qxd1+,Rxd1,Bxc5,Bb5,Rc8,Ne5,Bb4+,Ke2,O-O,a3,Nxe5,Bxe5,Rc2+,Kf3,Ba5,b4,Bb6,Bd3,Bxd3,Rxd3,Ra2,Rhd1,h6,h3,Rc8,R3d2,Rcc2,Rxc2,Rxc2,Rd7,Ra2,Rxb7,Rxa3,Rb8+,Kh7,h4,Kg6,g4,Rb3,Bd6,h5,gxh5+,Kxh5,Rh8+,Kg6,Kf4,a5,bxa5,Bxa5,e4,Bc3', 'h5+,Kf6,e5+,Bxe5+,Bxe5+', 'https://lichess.org/training/aZpGd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Azqb2', 'Rapid', 'cobraabro', 2197, 'Blackknight021049', 2178, 'e4,c5,Nc3,e6,g3,d5,Bg2,Nf6,e5,Nfd7,f4,Nc6,Nf3,Be7,O-O,O-O,Ne2,f6,exf6,Bxf6,c3,e5,d4,cxd4,fxe5,Ndxe5,Nfxd4,Bg4,Qb3,Ne7,Nf4,Qd6,Nxd5,Nxd5,Qxd5+,Qxd5,Bxd5+,Kh8,Bxb7,Rab8,Be4,Nc4,b3,Nd6,Bc2,Nb5,Nxb5,Rxb5,c4', 'Bd4+,Be3,Bxe3+', 'https://lichess.org/training/Azqb2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Azqnl', 'Classical', 'Vanic19', 1823, 'oranjechess', 2025, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,c3,d6,Bb3,Be7,Nbd2,O-O,h3,Nh7,O-O,Be6,Bc2,f5,Re1,f4,Nf1,g5,N1h2,Nf6,d4,Bd7,b3,Qe8,Bb2,Rd8,c4,g4,hxg4,Nxg4,Qc1,Bf6,Nxg4,Bxg4,Nh2,Bc8,Bb1,Qg6,Kh1,Rf7,d5,Rg7,Rg1,Ne7,Qd1,Kh8,Bd3,Rdg8,Qf3,Qg5,g3,Bg4,Nxg4,Qxg4,Qxg4,Rxg4,gxf4', 'Rh4#', 'https://lichess.org/training/Azqnl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aZqvC', 'Rapid', 'Ambrose81', 1667, 'sochessy', 1648, 'e4,e5,f4,Nf6,d3,d6,fxe5,dxe5,Nf3,Bg4,Be2,Bxf3,Bxf3,c5,O-O,Nbd7,Bg5,Rc8,Bg4,Qb6,b3,c4+,Kh1,cxd3,cxd3,Qd4,Nd2,h5,Bh3,Ng4,Qf3,f6,Bxg4', 'hxg4,Qxg4,fxg5', 'https://lichess.org/training/aZqvC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('azS3w', 'Blitz', 'magnuskarsono', 1951, 'wolf8', 1963, 'e3,Nf6,Be2,e6,b3,d5,Bb2,c5,c4,Nc6,Nf3,Be7,d4,cxd4,exd4,O-O,O-O,Qc7,Nbd2,Nd7,cxd5,exd5,Rc1,Qf4,g3,Qh6,Ne5,Nf6,Rxc6,bxc6,Nxc6,Bd6,Ne5,Bb7,Ndf3,Ne4,Bc1,Qe6,Be3,f6,Nd3,Rac8,Nf4,Qf7,Bd3,f5,Ne5,Bxe5,dxe5,Rcd8,e6,Qe7,Qh5,g6', 'Nxg6,hxg6,Qxg6+,Qg7,Qxg7+', 'https://lichess.org/training/azS3w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aZtAs', 'Blitz', 'GM muisback', 2738, 'GM VladimirBelous', 2658, 'Nf3,c5,g3,Nc6,Bg2,g6,O-O,Bg7,d3,Nf6,e4,O-O,Nc3,d6,Re1,Rb8,a4,a6,e5,dxe5,Nxe5,Nxe5,Rxe5,Bg4,Qe1,Nd7,Rxe7,Be6,Rxe6,fxe6,Qxe6+,Kh8,Bf4,Ra8,Bxb7,Ra7,Bg2,Nf6,Re1', 'Re8,Qxe8+,Nxe8', 'https://lichess.org/training/aZtAs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AzTCv', 'Rapid', 'JealousFrog3885', 1715, 'pesango', 1657, 'e4,c5,c4,Nc6,a3,g6,Nf3,Bg7,Nc3,d6,d3,Bg4,h3,Bd7,Nd5,Nf6,Nxf6+,Bxf6,Rb1,O-O,Bh6,Re8,Ng5,e5,Be2', 'Bxg5,Bxg5,Qxg5', 'https://lichess.org/training/AzTCv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AZTJZ', 'Blitz', 'Garrybesty', 1570, 'dhayazhini007', 1625, 'e4,e5,Nf3,d6,Bc4,h6,c3,Nf6,O-O,Nc6,d3,a6,h3,Nh7,Qb3,Be6,Bxe6,fxe6,Qxb7,Ne7,d4,exd4,Nxd4,e5,Ne6,Rb8,Nxc7+,Kf7,Ne6,Kxe6,Qxa6,Nf6,Kh1,Nxe4,Qc4+,d5,Qa6+,Qd6,Qe2,g5,f4,gxf4,Bxf4,exf4,Nd2,Kf5,g4+,Kg5,Nxe4+,dxe4,Qxe4,Rxb2,Rxf4,Qxf4', 'h4+,Kxg4,Rg1+,Kh5,Qxf4', 'https://lichess.org/training/AZTJZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AzTt5', 'Rapid', 'jagg2017', 1844, 'Dimerix', 1764, 'e4,c6,d4,d5,e5,Bf5,h4,e6,g4,Be4,f3,Qa5+,c3,Bxf3,Qxf3,Nd7,Bd3,c5,Bd2,Qb6,b3,c4,Bc2,a5,Bc1,Ne7,Na3,Nc6,bxc4,Bxa3,Bxa3,dxc4,Rb1,Qa7,Be4,Rc8,Nh3,Nb6,Bc5,Nxe5,Qg2,Rxc5,dxc5,Nbd7,Rxb7,Qxc5,Qf2,Qd6,O-O,O-O,Ng5,Nc5,Bxh7+,Kh8,Be4,Nxg4,Nxf7+', 'Rxf7,Rxf7,Nxf2', 'https://lichess.org/training/AzTt5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aZvQT', 'Rapid', 'JER4LD', 1958, 'mge84chess', 1991, 'd4,Nf6,Bf4,d5,Nc3,c5,e3,Bf5,Nf3,e6,Bb5+,Nc6,Ne5,Rc8,g4,Bg6,h4,h5,g5,Ne4,Nxg6,fxg6,Nxe4,dxe4,dxc5', 'Qa5+,c3,Qxb5', 'https://lichess.org/training/aZvQT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AZvSp', 'Blitz', 'Fegatelo78', 2228, 'FM ricaurte55', 2198, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb5+,c6,dxc6,bxc6,Be2,h6,Nh3,Bd6,O-O,O-O,d3,c5,Nc3,Nc6,Kh1,Nd4,f4,Bxh3,gxh3,exf4,Bxf4,Bxf4,Rxf4,Qd6,Rf2,Rab8,Rb1,Qe5,Bf3,Rfd8,Bg2,c4,Ne4,Nh5,Qg4,cxd3,cxd3,g6,Rbf1,Rf8,b3,Rb6,Ng3,Ng7,Qh4,h5,Ne4,Ngf5,Qg5,Kh7,h4,Re6,Bh3,f6,Qd2,Nxh4,Bxe6,Nxe6,Nxf6+,Kg7,Ne4,Nf5,Rg2,Ned4,Rfg1,Ne7,Qb4,Rf5,Qxe7+', 'Qxe7,Rxg6+,Kh7', 'https://lichess.org/training/AZvSp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AZwAg', 'Rapid', 'mystic_cop', 1665, 'Balalaik', 1674, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb3,Nf6,Nc3,Bb4,Bd2,O-O,f3,b6,Bc4,Bb7,a3,Be7,Nd5,Nxd5,Bxd5,Bh4+,g3,Be7,Bc3,d6,Qd2,Qc7,h4,Kh8,O-O-O,f5,Kb1,fxe4,fxe4,Rf3,g4,Raf8,Qe2,Rf2,Qe1,Ba6,Nd2,Re2,Qg3,Rff2,Rhf1,Rg2,Qf3,h6,Bc4,Bxc4,Nxc4,Nd4,Bxd4,Qxc4,Bc3,Rxc2,Qf7,Rxb2+,Bxb2', 'Qc2+,Ka1,Qxb2#', 'https://lichess.org/training/AZwAg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AzwFd', 'Rapid', 'Alex_Plays_Chess', 1644, 'kapurs', 1978, 'e4,c5,Bc4,Nc6,Nc3,d6,d3,Nf6,Nf3,Bg4,h3,Bh5,Bd2,e6,O-O,Ne5,Bb5+,Nfd7,g4,Nxg4,hxg4,Bxg4,Kg2,Qf6,Bg5', 'Bxf3+,Qxf3,Qxg5+', 'https://lichess.org/training/AzwFd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('aZWOC', 'Blitz', 'jpenna', 1773, 'Koolak666', 1854, 'd4,c5,d5,d6,c4,e5,dxe6,f5,Qd5,Qe7,Qxf5,Bxe6,Qh5+,g6,Qf3,Nf6,e4,Bg7,Nc3,O-O,Qd3,Nc6,Nd5,Nxd5,cxd5,Nb4,Qe2,Bd7,Nf3,Rxf3,gxf3,Rf8,Bg2,a6,O-O,Bb5,Qd2,Bxf1,Kxf1,Qe5,Kg1,Qh5,a3,Nc6,dxc6,bxc6,Qxd6,Bd4,Qxc6,Qh4,Qd5+,Kh8,Be3,Bxb2,Rb1,Bg7,Bxc5,Qf6,Rb7,Rd8,Qf7', 'Rd1+,Bf1,Qg5+,Kh1,Rxf1#', 'https://lichess.org/training/aZWOC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AzWqZ', 'Rapid', 'sanjadhi', 1990, 'MostafaMVL', 2131, 'd4,d6,Nf3,Nf6,h3,g6,Bg5,Bg7,e3,O-O,Nbd2,Nbd7,Bc4,e5,dxe5,dxe5,O-O,Qe7,Ne4,h6,Nxf6+,Nxf6,Bh4,Bf5,c3,Rfd8,Qb3,Be4,Be2,Rd6,Rad1,Rad8,Rxd6,Rxd6,Rd1,Rxd1+,Bxd1,Qd6,Bg3,Nd7,Nd4,Qc5,Ne6,Qd6,Nxg7,Kxg7,Bc2', 'Nc5,Qa3,Bxc2', 'https://lichess.org/training/AzWqZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('azXBt', 'Rapid', 'Juusal', 1675, 'paddymelon', 1724, 'e4,Nf6,e5,Nd5,d4,d6,f4,b6,h3,c5,Nf3,cxd4,Qxd4,dxe5', 'Bb5+,Bd7,Qxd5', 'https://lichess.org/training/azXBt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('azXfi', 'Rapid', 'robson_granmaster', 1646, 'dllops', 1693, 'e4,e5,Nf3,Nc6,Nc3,Bb4,Nd5,Ba5,c3,Nf6,Bd3,d6,b4,Bb6,Nxb6,axb6,Bc2,Bg4,Qe2,O-O,Qe3,Ne7,Bb2,Ng6,h3,Bxf3,gxf3,Nf4,O-O-O,Qd7,a3,Nxh3,f4,Nxf4,d4,Qe6,dxe5,dxe5,c4,Qxc4,Kb1,Ng6,Qh3,h6,Rhg1,Nxe4,Rxg6,fxg6', 'Bb3,Qxb3,Qxb3+', 'https://lichess.org/training/azXfi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AZyIh', 'Classical', 'Pianisteclassique', 1642, 'HVRompuy', 1724, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,Bg4,Bg5,Nbd7,e3,e6,cxd5,cxd5,Be2,Bxf3,Bxf3,Bd6,Rc1,O-O,O-O,Rc8,Qb3,Qc7,g3,h6,Bf4,Bxf4,exf4,Nb6,Nxd5,Qd6,Nxf6+,gxf6,Rfd1,Rxc1,Rxc1,Qxd4,Rd1,Qc4,Qxc4,Nxc4,b3,Nb6,Bxb7,Rb8,Bf3,Rc8,Be4,Kf8,Kf1,Ke7,Ke2,f5,Bb1,Nd5,Kd2,Rd8,Bd3,Nb4,Kc3,Nxa2+,Kc4,Rc8+,Kd4,Nb4,Re1', 'Rd8+,Kc4,Nxd3', 'https://lichess.org/training/AZyIh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('azYXF', 'Rapid', 'anarshi', 1931, 'Vigues', 1948, 'e4,c5,Nc3,Nc6,f4,d6,Bc4,e6,Nf3,Be7,O-O,h6,d4,cxd4,Nxd4,a6,f5,e5,Bxf7+,Kxf7,Qh5+,Kf8', 'Ne6+,Bxe6,fxe6+,Bf6,Qf7#', 'https://lichess.org/training/azYXF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Azzi8', 'Rapid', 'tgb00', 1897, 'bigiggye', 1779, 'e4,c6,d4,d5,e5,Bf5,c4,e6,Nc3,a6,Nf3,b5,c5,a5,Be2,b4,Na4,Nd7,O-O,Be7,h3,Bg6,Nh2,h5,f4,Be4,Bxh5,Nh6,Bf3,Bxf3,Qxf3,Nf5,Be3,f6,g4,Nh4,Qg3,fxe5,fxe5,Bg5,Rae1,Qe7,Nf3,Nxf3+,Rxf3', 'Bh4,Qg2,Bxe1', 'https://lichess.org/training/Azzi8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('AZZMc', 'Rapid', 'manzi', 1787, 'Lauritz13', 1815, 'd4,d5,c4,dxc4,Qa4+,Nc6,e3,Bf5,Nc3,a6,Qxc4,e6,a3,Nf6,h3,b5,Qb3,Bd6,Qd1,O-O,Bd3,Bxd3,Qxd3,Re8,b4,Nd5,Nge2,Nxc3,Nxc3,e5,d5,e4,Nxe4,Ne5,Qd4,Qe7,Nxd6,Qxd6,e4,c6,O-O,cxd5,Rd1,Qg6,Qxd5,Nf3+,Kh1,Nh4,e5,h6,g3', 'Rad8,gxh4,Rxd5', 'https://lichess.org/training/AZZMc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b00R5', 'Blitz', 'cristofer_escobar', 2093, 'Aleksandr-1972', 2197, 'd4,Nf6,Nd2,d5,g3,c5,dxc5,e5,Nb3,Na6,Bg5,Be6,Bg2,Nxc5,Bxf6,gxf6,Nf3,Rc8,O-O,Qd7,Qd2,h5,Nxc5,Bxc5,c3,Rd8,Rad1,Bh3,Nh4,Rg8,Qh6,Bxg2,Kxg2,Ke7,e4,Rg4,Nf5+,Ke6,Qxh5,Rxe4,b4,Bb6,Qh3,Qa4,Ne3+,Ke7,Nxd5+,Rxd5,Rxd5,Qc6,c4', 'Rxc4,Qd7+,Qxd7,Rxd7+,Kxd7', 'https://lichess.org/training/b00R5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b02eL', 'Rapid', 'banonie', 1757, 'Sig357', 1772, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,c5,Nf5,Bxf5,exf5,Nf6,Bf4,Be7,Bb5+,Nc6,O-O,O-O,Nc3,Nd4,Bc4,b5,Nxb5,Nxb5,Bxb5,a6,Bc6,Rb8,b3,Rb4,Bg3,Ng4,c4,Nh6,Qd5,Bh4,Bxd6,Re8,Bxe8,Qxe8,Bxc5,Rb8,Rfe1,Qc8,Rad1,Bf6,Bd4,Bxd4,Rxd4,Nxf5,Rde4,g6,Qe5,Qd7,Qxb8+,Kg7,Re8,Qd2,R8e2,Qg5,Qe5+,Kh6,Qc7,Nh4,Qg3,Qf6,Qh3,Kg7,g3,Nf3+,Kh1,Qc6,Qg2,g5,h3,h5,g4,hxg4,hxg4', 'Qh6+,Qh3,Qxh3#', 'https://lichess.org/training/b02eL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b034W', 'Rapid', 'Szczypi0r', 1760, 'EneaSerani', 1745, 'e4,e5,d4,exd4,c3,dxc3,Bc4,Nc6,Nf3,cxb2,Bxb2,Bb4+,Nbd2,d6,Qb3,Bxd2+,Nxd2,Ne5,Bxe5,dxe5,Bxf7+,Kf8,O-O,Nf6,Rad1,Qe7,Bc4,a6,f4,b5,Bd3,Be6,Qc2,exf4,Rxf4,Kf7,Kh1,Rhd8', 'e5,Kg8,exf6', 'https://lichess.org/training/b034W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B0Asv', 'Rapid', 'janek86', 1849, 'kiyomitsu', 1835, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,g6,f4,Bg7,Bd3,O-O,O-O,Ng4,Qf3,Nxe3,Qxe3,b5,Rab1,Bb7,Nf3,Nc6,Rbd1,Qc8,Nd5,Qd8,b3,Re8,Qe2,e6,Ne3,Nd4,Nxd4,Bxd4,Kh1,Qb6,Rf3,Rac8,Ng4,Bg7,Qf2,Qxf2,Rxf2,d5,e5,h5,Ne3,Rc7,h4,Rec8,g3,Bf8,Kh2,Kg7,Ng2,Bc5,Re2,d4,Ne1,Bb4,Ra1,Bc3,Rb1,b4,Bc4,a5,Nd3,Bf3,Rf2,Be4,Re2,Bf5,Ne1,Bxe1,Rbxe1,a4,Rd2,axb3,cxb3,d3,Re3,Rd8,Kg2,f6,Kf2,fxe5,Rxe5,Kf6,Rb5,Rd4,Rxb4,Bg4,Rb6,Rc5,Rxd3', 'Rcxc4,Rxd4,Rxd4', 'https://lichess.org/training/B0Asv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b0Bbe', 'Rapid', 'joaomanoel53', 2097, 'ican', 1946, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Qc7,Bd3,g6,O-O,Bg7,Be3,Ne7,Re1,O-O,Qd2,b5,a3,Bb7,Nb3,d5,exd5,Nxd5,Nxd5,Bxd5,Bh6,Nd7,Bxg7,Kxg7,Qe2,Rac8,Nd4,Nb6,b3,Nd7,Rac1,Qc3,Qe3,Rfe8,Ne2,Qf6,Nf4,Bb7,Qg3,Kh8,h3,e5,Qg4,exf4,Rxe8+,Rxe8,Qxd7,Qc6,Qxc6,Bxc6,f3,Kg7,Kf2,f5,Re1,Rxe1,Kxe1,Kf6,c4,bxc4,Bxc4,a5,b4,axb4,axb4,Ke5,Kd2,h6,Kc3,g5,b5,Bb7,Kb4,g4,Kc5,gxh3,gxh3,Bxf3,b6,Bb7,Bb5,f3,h4,f2,h5,Bg2,Be2,Kf4,Kd6,Ke3,Bb5,f4,Kc7,f3', 'b7,f1=Q,Bxf1,Bxf1,b8=Q', 'https://lichess.org/training/b0Bbe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b0iwl', 'Blitz', 'Benxaque', 1796, 'anyhow', 1967, 'd4,Nf6,Bf4,d5,e3,c6,Nf3,e6,Bd3,Be7,h3,h6,Nbd2,Nbd7,c3,b6,O-O,Bb7,Ne5,Nxe5,dxe5,Nd7,Qg4,O-O,Bxh6,g6,Bxf8,Nxf8,f4,Kh8,h4,c5,h5,c4,hxg6,cxd3,g7+,Kg8,gxf8=Q+,Kxf8,f5,Ke8,fxe6,fxe6,Qxe6,Bc8,Qg6+,Kd7,e4,Kc7,Rf7,Kb8,exd5,Bc5+,Kf1,Qxd5,c4,Qxe5,Re1,Qd6,Rf6,Qc7,Ne4,a5,Rc6', 'Qf4+,Nf2,Qxf2#', 'https://lichess.org/training/b0iwl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b0j7X', 'Rapid', 'Sagomaldo', 1738, 'Allami1000', 1712, 'e4,c5,Bc4,Nc6,Nf3,a6,d4,cxd4,Nxd4,e6,Nxc6,bxc6,O-O,Bb7,e5,Qc7,Bf4,h6,Nc3,Ne7,Ne4,Nf5,g4,c5,Nd6+,Nxd6,exd6,Qc6,f3,g5,Be5,Rg8,Bd3,Bg7,Be4,Qb6,Bxb7,c4+,Kh1,Qxb7,Bxg7,Rxg7,b3,c3,Qd4,Rg8,Qxc3,Rc8,Qf6,Kf8,c4,Rg6,Qh8+,Rg8,Qxh6+,Rg7,Qh8+,Rg8,Qf6,Rg7,Rae1,Qc6,Qe7+,Kg8,Re5', 'f6,Qxf6,Rf8', 'https://lichess.org/training/b0j7X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b0Mq2', 'Rapid', 'AVARK', 1767, 'Caiogoia', 1689, 'd4,Nf6,Nf3,e6,c4,Bb4+,Bd2,Bxd2+,Nbxd2,d5,cxd5,Qxd5,e3,Nc6,Bc4,Qd8,O-O,O-O,Nb3,a6,Re1,b5,Bd3,Qd6,Bc2,Ng4,Qd3,f5,h3,Nf6,Nc5,Nd5,Bb3,Ncb4,Qd2,a5,a4,Qc6,Ne5,Qb6,Ncd7,Qd6,Nxf8,Kxf8,axb5,Bb7,f3,Nf6,Rac1,a4,Nc4,Qe7,Bc2,Nbd5,Ne5,a3,bxa3,Rxa3,Ra1,Rxa1,Rxa1,Qb4,Qxb4+,Nxb4,Bb3,Ke7,Ra7,Bd5,Bxd5,Nfxd5,Nc6+,Kd6,Nxb4,Nxb4,b6,cxb6,Rxg7,Nd5,Rxh7,b5,Rb7,Kc6,Rh7,b4,Ra7,Nxe3,Ra6+,Kd5,Rb6,Nc2,Kf2,Kxd4,Rxe6,b3,Rb6,Kc3,Ke2,b2,Kd1,Na3,h4,b1=Q+', 'Rxb1,Nxb1,h5,Kd4,h6', 'https://lichess.org/training/b0Mq2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B0OIm', 'Rapid', 'SRoman1967', 1801, 'VinniD', 1866, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,c5,Be3,cxd4,Nxd4,dxc4,Qa4+,Bd7,Qxc4,Nc6,O-O-O,Be7,g3,O-O,Bg2,Ne5,Qb3,Rb8,h3,Qc7,Rd2,Rfc8,Rc2,Qa5,Bd2,Rc7,Nd5,Rxc2+,Nxc2,Qd8,Nxe7+,Qxe7,Rd1,b6,Bb4,Qe8,Bd6,Ba4,Qa3,Bxc2,Kxc2,Rc8+,Kb1,Nc4,Qxa7,Nxd6,Rxd6,Nd5,Bxd5,exd5,Qa6', 'Qe4+,Qd3,Qh1+,Qd1,Qxd1#', 'https://lichess.org/training/B0OIm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b0P56', 'Rapid', 'Delvaux_Guy', 1770, 'frank-the-tank', 1697, 'e4,e6,d4,c6,Nf3,d5,e5,c5,c3,cxd4,cxd4,Nc6,b3,Bb4+,Bd2,Bxd2+,Qxd2,Qa5,Nc3,a6,Be2,b5,O-O,Bb7,a4,b4,Nd1,Qb6,Rc1,a5,Rc5,Nge7,Bb5,O-O,Ne3,Rac8,Rfc1,Rc7,Bxc6,Rxc6,Rb5,Qc7,Rxc6,Bxc6,Rc5,Qb6,Qc1,Rc8,h3,Bb7,Rxc8+,Bxc8,Qc5,Qxc5,dxc5,h6,Nd4,Bb7,f4,Nc6,Nxc6,Bxc6,Kf2,Kf8,g4,Ke7,f5,g6,Ke2,Bd7,f6+,Kd8,Kd3,Kc7,Kd4,Bc6,h4,Bb7,g5,h5,Nd1,Ba6,Ne3,Be2,Nc2', 'Bd1,Ne3,Bxb3', 'https://lichess.org/training/b0P56');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B0QWJ', 'Rapid', 'joekeres', 1716, 'Ekasap', 1777, 'e4,e5,Nf3,d6,Bc4,h6,O-O,Nf6,Nc3,c6,d3,b5,Bb3,a5,a4,b4,Ne2,Be7,Ng3,O-O,Re1,Be6,Bxe6,fxe6,d4,Qc7,dxe5,dxe5,b3,Nbd7,Bb2,Rad8,Qe2,Bc5,Qc4,Rfe8,Rad1,Ng4,Rf1,Qb6,Qe2,Nxf2,Rxf2,Bxf2+,Qxf2,Qc7,Qe2,Rf8,Nh4,Qb6+,Kh1,Rf2,Qc4,Rf6,Nf3,Qc7,Nh5,Rff8,Qxe6+,Kh8,h3', 'Nc5,Qg4,Rxd1+', 'https://lichess.org/training/B0QWJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b0SMO', 'Classical', 'invitado79', 1664, 'OneLossADay', 1866, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,Qe7,Qb3,Qxe4+,Ne2,Qg6,O-O,b6,Nf4,Qf5,Bxf7+,Qxf7,Re1+,Ne7,Nd5,Bb7', 'Nxc7+,Kd8,Qxf7', 'https://lichess.org/training/b0SMO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B0t1n', 'Rapid', 'k_0549', 1662, 'Harwitzer', 1693, 'd4,Nf6,Nc3,d5,Nf3,e6,Bf4,c5,dxc5,Bxc5,e3,Nc6,Nb5,O-O,Nc7,Rb8,Nb5,Ra8,Nc7,Rb8,Na6,Qa5+,Qd2,Qxd2+,Nxd2,bxa6,Bxb8,e5,Bc7,Bb7,Nb3,Be7,Ba5', 'Nxa5,Nxa5,Bb4+,c3,Bxa5', 'https://lichess.org/training/B0t1n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b0tjM', 'Rapid', 'MKE13MKE13', 1701, 'bunTaPka', 1695, 'e4,d6,d4,c6,Nc3,Qc7,Nf3,e5,dxe5,dxe5,Bc4,Bg4,Be3,Nd7,Qe2,Bc5,Bxc5,Nxc5,O-O-O,a5,h3,Be6,Bxe6,Nxe6,Rd2,Nf6,Rhd1,O-O,Rd6,Rad8,Qd2,Rxd6,Qxd6,Qxd6,Rxd6,Rd8,Rxd8+,Nxd8,Nxe5,Ne6,f3,Nf4,Nc4,Nxg2,Nxa5,Nh4,f4,Ng2,f5,b6,Nxc6,Nf4,h4,N4h5,e5,Nd7,e6,fxe6,fxe6,Ndf6,e7,Kf7,Na4,b5,Nc5,Nf4,Na6,Ne6,a3,h6,Kd2,g5,hxg5,hxg5,Ke3,Nd5+,Kf3,Nxe7,Ne5+,Kf6,Nd7+,Kf5,b3,Nd4+,Ke3,Nxc2+,Kd3,Nxa3,Ke3,Nd5+,Kf3,Nc2,Nac5,Nd4+,Kf2,Kf4,Nd3+,Ke4,N7c5+,Kf5,Kg3,Nf4,Nf2,Nfe2+,Kg2,g4,Nd1,Kf4,Nd3+,Ke4,N1f2+,Ke3,Nc5,g3,Ng4+,Kf4,Nf6,Nc1,b4,Ncb3,Nh5+,Kg4,Nxg3,Nxc5,bxc5,Kf4', 'Ne2+,Nxe2,c6,b4,c7,b3,c8=Q', 'https://lichess.org/training/b0tjM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b0Uv9', 'Rapid', 'Grootmeester_Victor', 1611, 'lanfer85', 1621, 'c4,e5,d4,e4,Nc3,f5,c5,b6,b4,bxc5,bxc5,d6,Qa4+,Bd7,Qb3,c6,Qb7,Qa5,Bd2,Qa3,Qxa8,Nf6,Qxb8+,Kf7,cxd6,Rg8,e3,Bxd6,Bc4+,Kg6,Qb7,Rb8,Qa6,Qb2,Rb1,Qc2,Rxb8,Bxb8,Bb3,Qb2,Nge2,Qa1+,Nc1,Qb2,O-O,Qxd2,Na4,Bd6,Nc5,Be8,Ne6,Bd7,Nc5,Be8,Qxa7,h5,Ne6,Bf7,Nf4+,Bxf4,Qxf7+,Kh6,exf4,Qxf4,g3,Qf3,h4,e3,fxe3,Qxg3+,Kh1,Qxh4+,Kg2,Qg4+,Kf2,Ne4+,Ke1,Qg3+,Kd1,Qxe3,Kc2', 'Qc3+,Kb1,Nd2#', 'https://lichess.org/training/b0Uv9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B0wGg', 'Classical', 'datadweller', 1943, 'faithful62', 1927, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,Bb4,a3,Bxc3,dxc3,Nxe4,Bxc6,bxc6,Qe2,d5,Nxe5,Qf6,Nd3,O-O,Be3,Nxc3,Qf3,Qxf3,gxf3,Nb5,Ne5,d4,Bf4,c5,O-O,f6,Nc4,Be6,Nd2,Nd6,Ne4,Nxe4,fxe4,Rf7,Rfd1,Bg4,Rd3,Re8,f3,Be6,c3,Bc4,Rd2,Rd7,cxd4,cxd4,Rc1,Be6,Rxc7,Rxc7,Bxc7,Rc8,Bd6,Rc4,Bb8,a5,Ba7,d3,Rxd3,Rc1+,Kf2,Rc2+,Kg3,Rxb2,Rd8+,Kf7,Bc5,a4,Ra8,Rc2,Bb4,Bb3,Rf8+,Kg6,h4,h5,Re8,Rc7,e5,fxe5,Rxe5,Rf7,Rg5+,Kh6,Bd2,g6,Rf5+,Kg7,Bc3+,Kg8,Rg5,Kh7,f4,Rd7,Rc5,Be6,Rc6,Bf5,Rc4,Ra7,Bd4,Ra8,Rc7+,Kg8,Rg7+,Kf8,Rh7,Rd8', 'Rh8+,Ke7,Bf6+', 'https://lichess.org/training/B0wGg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B0wSQ', 'Rapid', 'Sanya-Sh', 1952, 'udav202', 1969, 'c4,c6,Nf3,d5,e3,Nf6,Be2,e6,O-O,Be7,b3,O-O,Bb2,b6,d4,Nbd7,Nbd2,Bb7,Ne5,c5,Ndf3,Qc7,Rc1,Rac8,Qc2,Qb8,dxc5,Nxc5,Bd4,Nce4,Qb2,Rfd8,Bd3,h6,Nd2,Nxd2,Qxd2,Ba3,Bb2,Bxb2,Qxb2,Qd6,Nf3,Qe7,Nd4,dxc4,Bxc4,Nd5,Rfd1,Qg5,e4,Nf4,f3,a6,g3,b5,Bf1,Nh5,Rxc8,Rxc8,Bh3,Qc5,Kg2,Rd8', 'Nxe6,Rxd1,Nxc5', 'https://lichess.org/training/B0wSQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B0XGz', 'Blitz', 'andrzejwuj94', 2207, 'ochosinco', 2129, 'Nf3,g6,g3,Bg7,Bg2,d6,d4,Nd7,O-O,c5,c4,Ngf6,d5,O-O,Nc3,a6,a4,Qa5,Bd2,Qc7,Rb1,Ng4,e4,Nge5,Nxe5,Nxe5,f4,Nxc4,Bc1,Qa5,Ne2,Bg4,b3,Bd4+,Kh1,Ne3,Bxe3,Bxe3,h3,Bxe2,Qxe2,Bd4,f5,b5,h4,bxa4,bxa4,Rab8,fxg6,hxg6,h5,Qxa4,hxg6,fxg6,Qg4,Kg7,Rxb8,Rxb8,Qf3,Rh8+,Bh3,Rxh3+,Kg2,Rh8', 'Qf7+,Kh6,Rh1+,Kg5,Qf4#', 'https://lichess.org/training/B0XGz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b0YZ1', 'Blitz', 'Wajaperezo', 1600, 'Alexander52', 1644, 'd4,c6,c4,d5,Nc3,Nf6,e3,Bf5,Nf3,e6,Qb3,Qb6,c5,Qxb3,axb3,Nbd7,b4,Be7,b5,O-O,Nh4,Bc2,Kd2,Bb3,Ra3,Bc4,Bxc4,dxc4,Ra4,cxb5,Nxb5,a6,Nc3,b5,cxb6,Nxb6,Ra5,Bb4,Ra1,Ne4+,Kc2,Nxf2,Rf1,Nd3,Nf3,a5,Ne5,Nxe5,dxe5,Rfd8,Nb5,Nd5,Nd6,Nxe3+,Bxe3,Bxd6,exd6,Rxd6,Rad1,Rc6,Bf4,h6,Rd6,Rcc8,Rfd1,a4,Kc3,a3,bxa3,Rxa3+,Kb4', 'Rb3+,Ka5,Ra8+,Ra6,Ra3+', 'https://lichess.org/training/b0YZ1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B0ZNe', 'Blitz', 'FM Jason64', 2253, 'IM TerryR2', 2669, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Bb4,e5,h6,Bd2,Bxc3,bxc3,Ne4,Qg4,g6,Bd3,Nxd2,Kxd2,c5,Nf3,Nc6,Qf4,cxd4,cxd4,g5,Qf6,Qxf6,exf6,g4,Ne5,Nxd4,Nxg4,h5,Ne5,Rh6,Rab1,Rxf6,f3,Ke7,Rhe1,Nc6,Nxc6+,bxc6,Rb4,Bd7,Rh4,Rg8,Re2,c5,c3,Rg5,f4,Rg4,Rxh5,Rgxf4,Rxd5,Ra4', 'Rxd7+,Kxd7,Bb5+,Kd6,Bxa4', 'https://lichess.org/training/B0ZNe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b106W', 'Rapid', 'abel233', 1902, 'ggz', 2141, 'd4,Nf6,Bf4,g6,e3,Bg7,h3,d6,Nf3,O-O,Bd3,c6,O-O,Nbd7,c3,Re8,Bc4,e5,dxe5,dxe5,Bg5,Qc7,Qc2,Nc5,Nbd2,Bf5,Qd1,Rad8,Re1,Nd3,Bxd3,Bxd3,Qb3,Bf5,Rad1,h6,Bxf6,Bxf6,e4,Be6,Qc2,Be7,c4,f6,a3,a5,Qc3,Rd7,Nf1,Red8,Rxd7,Rxd7,Ne3,b6,Re2,Kf7,Kf1,h5,Ke1,Qd8,Rd2,Rxd2,Nxd2,Qd6,Ke2,Qc5,Nb3,Qd6,Nd2,Bd7,a4,Be6,b3,Qc5,Nc2,b5,axb5,cxb5,Qd3,bxc4,Nxc4,a4,N2e3,axb3,Qxb3,Qd4,Qb6', 'Bxc4+,Nxc4,Qxc4+', 'https://lichess.org/training/b106W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B13N6', 'Rapid', 'Hengky_1981', 2045, 'tekitou', 2066, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,dxe4,Nxe4,Be7,Bxf6,gxf6,Nf3,f5,Ng3,Qd6,c3,Nc6,Bb5,Bd7,O-O,h5,d5,Ne5,Bxd7+,Nxd7,dxe6,fxe6,Qb3,O-O-O,Rad1,Qa6,Rfe1,Nc5,Rxd8+,Bxd8,Qd1,h4,b4,hxg3,bxc5,gxf2+,Kxf2,Be7,Qd4,Re8,Ne5,Qb5,c4,Qxc5,Qxc5,Bxc5+,Kf3,Bd6,h4,Bxe5,Rxe5,Kd7,Kf4,Rg8,g3,Ke7,h5,Kf6,Re1,b6,Rh1,Rh8,g4,e5+,Kf3,fxg4+,Kxg4,e4,Kf4,Rh7,Kxe4,Kg5,Kd5,Rxh5', 'Rxh5+,Kxh5,Kc6,Kg5,Kxc7', 'https://lichess.org/training/B13N6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B14aU', 'Rapid', 'FussballspieleR', 2052, 'Uzairkantroo', 2086, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Nf6,e5,d5,Bb5,Ne4,Nxd4,Bd7,Bxc6,bxc6,O-O,Bc5,f3,Ng5,f4,Ne4,Be3,Qh4,Nd2,Bg4,N2f3,Bxf3,Rxf3,O-O,Rh3,Qe7,Kh1,Bxd4,Qxd4,Rfd8,c3,a5,Rf1,c5,Qd1,f5,exf6,Qxf6,f5,a4,Qh5,h6,Qg4,Kf8,Bf4,d4,cxd4,Qxd4,Be3', 'Nf2+,Bxf2,Qxg4', 'https://lichess.org/training/B14aU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B1a4q', 'Bullet', 'scarface22', 1899, 'Oblispolkom', 1947, 'e4,d6,d4,Nf6,Nc3,a6,f4,e6,Nf3,b5,Bd3,Bb7,e5,Nd5,O-O,Nb4,Be4,Bxe4,Nxe4,d5,Ng3,c5,c3,N4c6,f5,cxd4,cxd4,Qb6,Be3,Nd7,Qe2,Be7,Nh5,O-O,f6,gxf6,Nh4,f5,Nxf5,exf5,Rxf5,Kh8,Nf6,Bxf6,exf6,Rg8,Rd1,Rg6,Qh5,Rag8', 'Qxh7+,Kxh7,Rh5+,Rh6,Rxh6#', 'https://lichess.org/training/B1a4q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b1AJt', 'Rapid', 'ronniak2', 1970, 'Vanitati', 1886, 'e4,e5,Nf3,Nf6,Nc3,Nc6,b3,Bc5,Bb2,Ng4,d4,exd4,Nd5,d3,Ne3,Nxf2,Kxf2,dxc2,Qxc2,Bxe3+,Kxe3,O-O,Qc3,f6,Bc4+,Kh8,Ng5,Qe7,Ba3,d6,Nf3,Re8,Bd3,Ne5,Nxe5,fxe5,Raf1,Qg5+,Ke2', 'Bg4+,Rf3,Bxf3+,gxf3,Qg2+', 'https://lichess.org/training/b1AJt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B1b0v', 'Rapid', 'PieceOfCheckmate', 1675, 'Mavsku', 1753, 'Nf3,Nf6,d4,e6,c4,d5,g3,c6,Bg2,Be7,O-O,O-O,Bg5,h6,Bh4,Nbd7,Nbd2,Nb6,c5,Nbd7,b4,b6,Bxf6,Nxf6,Ne5,Bb7,Qa4,Qc7,Rac1,bxc5,dxc5,Qxe5,e3,Rab8,Qxa7,Qb2,Nb3,Nh7,Na5,Qxb4,Rb1,Qxc5,Qxc5,Bxc5,Nxb7,Be7,Rfc1,c5,Na5,c4,Nc6,Rxb1', 'Nxe7+,Kh8,Rxb1', 'https://lichess.org/training/B1b0v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b1bZN', 'Rapid', 'Dmitryekat', 2184, 'XristosPro', 2185, 'e4,c5,c3,d5,exd5,Qxd5,d4,Nc6,Nf3,Nf6,Be2,e6,O-O,Be7,Be3,cxd4,cxd4,O-O,Nc3,Qd8,a3,b6,b4,Bb7,Qb3,Rc8,Rfd1,Nd5,Nxd5,Qxd5,Bc4,Qf5,d5,exd5,Bxd5,Bf6,Rac1,Ba8,h3,Qg6,b5,Ne7,Bxa8,Rxa8,Rd7,Nf5,Bf4,Nh4,Nxh4,Bxh4,Rcc7,Rae8,g3', 'Re1+,Kg2,Qe4+,Qf3,Rg1+,Kxg1,Qxf3', 'https://lichess.org/training/b1bZN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B1CIf', 'Rapid', 'guille75', 1891, 'ViktorChmel', 1862, 'f4,d5,d4,c5,e3,e6,Nf3,Nc6,c3,b6,Bb5,Bb7,Ne5,Qc7,Qa4,Ne7,O-O,f6,Nxc6,Bxc6,Bxc6+,Qxc6,Qxc6+,Nxc6,Nd2,Be7,Rd1,cxd4,exd4,O-O,Nf3,b5,a3,a5,Bd2,b4,axb4,axb4,g3,h5,h4,Kf7,Ne1,Rfb8,Nd3,bxc3,bxc3,Na5,Kf2,Nc4,Be1,g5,fxg5,fxg5,hxg5,Bxg5,Kf3,Kf6,Nc5,Kf5,Rdb1,Be7,Nd3,e5,dxe5,Nxe5+,Nxe5,Kxe5,Bd2,Rf8+,Kg2,Rxa1,Rxa1,Rb8', 'Bf4+,Kf5,Bxb8', 'https://lichess.org/training/B1CIf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b1cVb', 'Rapid', 'mak7ym', 1986, 'jeffbeck', 1947, 'e4,e6,c4,c6,d4,d5,exd5,cxd5,c5,Nc6,Nf3,b6,Bb5,Bd7,Qa4,Qc8,b4,g6,O-O,a6,Bxc6,Bxc6,Qc2,bxc5,dxc5,Bg7,Bb2,Nf6,Re1,O-O,Nbd2,Rb8,a3,Qb7,Be5,Ne4,Bxg7,Kxg7,Nxe4,dxe4,Ng5,a5,Rab1,e3,Rxe3,Bxg2,f3,h6,Qxg2,hxg5,Qxg5,axb4,axb4,Rh8,b5,Rh5,Qf4,Rxc5', 'Qd4+,Kh7,Qxc5', 'https://lichess.org/training/b1cVb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B1cY6', 'Rapid', 'Kana44', 1710, 'Schwachmatt01', 1608, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Qf6,c3,Bc5,Be3,Nh6,g3,Ng4,Qxg4,d6,Qd1,O-O,Bg2,Bg4,f3,Bh5,O-O,Rfe8,Kh1,Nxd4,cxd4,Bb6,Nc3,c6,Qd3,Bg6,Qd2,Rad8,b4,d5,e5,Qf5,g4,Qd3,f4,Qxd2,Bxd2,Bd3,Rf3,Be4,Nxe4,dxe4,Rff1,Rxd4,Be3,Rxb4,Bxb6,axb6,Rfe1,Rd8,h3,Rd3,f5,e3,Rab1', 'Rxb1,Rxb1,e2,Bf3,Rxf3', 'https://lichess.org/training/B1cY6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b1Dit', 'Classical', 'CEAJE', 1746, 'Loveruelw', 1791, 'e4,e6,e5,c5,c3,d5,exd6,Bxd6,d4,cxd4,Qxd4,Nf6,Nf3,O-O,Bd3,Nc6,Qh4,Ne5,Nxe5,Bxe5,Qh3,b6,Bg5,h6,Bh4,Bb7,O-O,Qd5,Nd2,Nh5,Be4,Qd7,Bxb7,Qxb7,Nf3', 'Nf4,Nxe5,Nxh3+', 'https://lichess.org/training/b1Dit');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B1dje', 'Classical', 'kenybigfoot', 1670, 'ne07', 1694, 'e4,e5,Nc3,Nf6,Bc4,Nc6,Nf3,h6,d4,exd4,Nxd4,Ne5,Bb3,c5,Ndb5,Qb6,Bf4,Neg4,Bc4,d6,Nxd6+,Bxd6,Bxd6,Qxb2,Na4', 'Qb4+,c3,Qxc4', 'https://lichess.org/training/B1dje');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B1E1W', 'Rapid', 'jotaele89', 1888, 'damduba', 1847, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,d5,exd5,exd5,Bb3,c4,Ba4,Be7,Ne5,Qc7,Re1,Nf6,d4,Be6,c3,O-O,Nxc6,bxc6,Bc2,Bg4,Qd2,Bd6,g3,Rae8,Na3,Rxe1+,Qxe1,Bf3,Qe3,Be4,Bxe4,Nxe4,f3,Nxg3,hxg3,Bxg3,f4,Bh4,Qh3,Qe7,Be3,Re8,Nc2,Qf6,Qg2,Qf5,Kf1,Qd3+,Qe2,Qe4,Qg2,Qf5,Rd1,Rxe3', 'Nxe3,Qxf4+,Ke2', 'https://lichess.org/training/B1E1W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b1eds', 'Rapid', 'Ak05', 1627, 'damtew', 1725, 'e4,c5,Nf3,d6,Bc4,e6,c3,Nf6,d3,Be7,Be3,O-O,O-O,a6,Nbd2,b5,Bb3,Bb7,Re1,Nbd7,c4,Ng4,cxb5,axb5,Nf1,Nxe3,Nxe3,Bf6,Qc2,Rc8,Rab1,Ne5,Nxe5,Bxe5,Ng4,Bd4,Qe2,c4,dxc4,bxc4,Bxc4,d5,exd5,exd5,Bd3,Re8,Qxe8+,Qxe8,Rxe8+,Rxe8,a4,Bc6,b3,Bc3,Kf1,d4,a5,Ra8,b4,Rb8,Ne5,Bd5,b5,Bxa5,Nc6,Bxc6,bxc6,Rxb1+,Bxb1,Kf8,Ke2,Ke7,Be4,g6,g4,Kd6,Kd3,Bb6,f3,f6,f4,Bc5,Kc4,Bb6,h4,Bc5', 'c7,Kxc7,Kxc5', 'https://lichess.org/training/b1eds');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b1fpo', 'Rapid', 'Issa2018', 2051, 'hena22', 2015, 'e4,c6,d4,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Nxd7,Nc3,e6,Nf3,a6,Ne5,Ngf6,Nxd7,Qxd7,Bg5,Be7,O-O,O-O,Qf3,b5,Rae1,Rac8,Ne2,Rfe8,c3,Ne4,Bxe7,Qxe7,Ng3,Nd2,Qh5,Nxf1,Kxf1,g6,Qh6,Qf6,Re5,Qg7,Qe3,Rc4,b3,Rcc8,h4,Qf6,h5,b4,hxg6,hxg6,Rg5,Rxc3,Qd2,Rec8,Nh5,Qg7,Qf4,Rc1+,Ke2,R8c2+,Kf3,Rc3+,Kg4,gxh5+,Kxh5,Rh1+,Kg4,Rh7', 'Qb8+,Rc8,Qxc8#', 'https://lichess.org/training/b1fpo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B1Hbz', 'Rapid', 'Illia_kyiv', 1777, 'Snapeleaple', 1732, 'c3,e5,d3,Nc6,Nd2,Nf6,h3,d5,g4,h6,Bg2,Be6,Qc2,Bc5,Ngf3,O-O,b4,Bb6,b5,Nb8,Nxe5,c6,a4,Nbd7,Nef3,c5,e4,dxe4,Nxe4,Nxe4,dxe4,Qc7,O-O,Bc4,g5,Bxf1,gxh6,Bxg2,hxg7,Kxg7,Kxg2,Ne5,Bf4,Rfe8,Nxe5,Rxe5,Rg1,Rg8,Kf1+,Kh7,Rxg8,Kxg8,Qe2,Kf8,Qg4,Qe7,Bxe5,Qxe5,Qc8+,Kg7,Qg4+,Kf6,Qh4+,Ke6,Qh6+,f6,Qf8,Qxc3,Qg8+,Ke5', 'Qd5+,Kf4,Qf5#', 'https://lichess.org/training/B1Hbz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B1IHu', 'Rapid', 'DragosFocsani', 1865, 'ralphvalentini', 1843, 'd4,Nf6,c4,g6,Nc3,d5,e3,c6,Nf3,Bg4,h3,Bxf3,Qxf3,Bg7,cxd5,cxd5,Bb5+,Nc6,O-O,O-O,Re1,Nb8,a3,a6,Ba4,b5,Bc2,Nc6,b4,e6,Bd2,Rc8,Rec1,Qd7,g4,Rc7,h4,Rfc8,Bd3,Ne7,h5,Qd6,hxg6,fxg6,Kg2,e5,dxe5,Qxe5,Ne2,Rxc1,Rxc1,Rxc1,Bxc1,Qg5,Kg3,Nf5+,Bxf5,gxf5,e4,Nxe4+', 'Qxe4,fxe4,Bxg5', 'https://lichess.org/training/B1IHu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b1Mu9', 'Rapid', 'Yura0101', 1828, 'denovch', 1801, 'e4,c5,Nf3,Nf6,e5,Nd5,d4,cxd4,Nxd4,d6,Bb5+,Bd7,exd6,e5,Bxd7+,Nxd7,Nf5,N5f6,O-O,g6,Nh6,Qb6,Ng4,Qxd6,Nc3,a6,Nxf6+,Nxf6,Qf3,Bg7,Bg5,Qc6,Qh3,O-O,Rfe1,Rac8,Bh6,e4,Bxg7,Kxg7,Qh4,Rfe8,Re3,Nd5,Rxe4,Nxc3,Rxe8,Rxe8,Qd4+,Qf6,Qxf6+,Kxf6,bxc3,Rc8,Rb1,b5,g3,Rxc3,Rc1,a5,Kf1,b4,Ke2,Ke5,Kd2,Kf5,Re1,Rf3,Ke2,Ra3,Ra1,Kg4,h4,f5,Kf1,Kf3,Re1,Rxa2,Re3+,Kg4,Re2,Ra1+,Kg2,a4,Re7,Ra2', 'f3+,Kh5,Rxh7#', 'https://lichess.org/training/b1Mu9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b1Odl', 'Blitz', 'Gauravpatni', 1636, 'dimondemo', 1628, 'e4,e5,Qh5,Nc6,Bc4,g6,Qf3,Nf6,d3,Nd4,Qd1,Bg7,Nf3,c5,Bg5,b5,Bd5,Nc6,c4,bxc4,Bxc4,d6,Nc3,O-O,Nd5,Be6,Nxf6+,Bxf6,Bxf6,Qxf6,Ba6,Qd8,Bb7,Rb8,Bxc6,Rxb2,Bd5,Qa5+,Nd2,Qc3,Rc1,Qxd3,Bxe6,fxe6,Qe2,Qd4,O-O,Rxa2,Rcd1,Qa4,Qg4,Qd7,Nc4,Ra6,Ra1,Rc6,Na5,Rf4,Qe2,Rb6,Nc4,Rb4,Rfc1,Qc6,f3,Qc7,Rab1,Rxb1,Rxb1,Rf8,Qa2,Qe7,Ne3,Qg5,Ng4,h5,Ne3,Rxf3,g3,Qxe3+,Kh1,Qxe4,Rb8+,Kg7,Qxa7+,Kh6,Rh8+,Kg5,Qe7+,Kg4', 'Qh4+,Kf5,Rf8#', 'https://lichess.org/training/b1Odl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B1ShW', 'Blitz', 'AnastasiosDr', 2107, 'rycvoland66', 1920, 'd4,d5,Bf4,Nf6,e3,e6,Nd2,Bd6,Bg3,c6,Bd3,O-O,Ngf3,Re8,Ne5,Nbd7,f4,c5,c3,b6,Qf3,cxd4,exd4,a5,Bh4,a4,a3,Ba6,Bc2,Bb5,Qh3,Be7,Nxd7,Qxd7,Bxf6,Bxf6,Qxh7+,Kf8,Nf3,Ke7,Qh5,Rh8,Qg4,Qc7,O-O-O,Bc4,Rhe1,Bb3,h3,b5,Rd2,Rac8,Ree2,Bc4,Rf2,Bb3,f5,Bxc2,Rxc2,Qc4,Kb1,exf5,Rfe2+,Kd6,Qf4+,Kc6,Qxf5,Rhe8,Ne5+,Bxe5,dxe5,f6,e6,Re7,Rcd2,Rd8,Qf3,Rd6,Rd4,Qc5,Red2,Rdxe6,Ka2,Re1,Rxd5', 'Qc4+,b3,Qxb3#', 'https://lichess.org/training/B1ShW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b1uD7', 'Rapid', 'Torcuso', 2089, 'manublack', 2103, 'e4,e5,Nf3,Nc6,Be2,Nf6,Nc3,Be7,O-O,O-O,d3,h6,Be3,d6,Nd2,d5,exd5,Nxd5,Nxd5,Qxd5,Bf3,Qb5,Nc4,Nd4,a4,Nxf3+,Qxf3,Qe8,Nxe5,Bf6,Nc4,c6,Bc5,Be7,Rfe1,Be6,Nd6,Qd7,Qg3,b6,Nf5,Bxc5', 'Qxg7#', 'https://lichess.org/training/b1uD7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b1Vvl', 'Classical', 'samir5183', 2084, 'demoooooo', 2217, 'e4,c6,d4,d6,Nf3,Bg4,h3,Bh5,Bd3,Qc7,Nbd2,e5,d5,c5,O-O,Nd7,Re1,Ngf6,b3,h6,Nf1,g5,g4,Bg6,Ng3,Bg7,Nf5,Bxf5,exf5,O-O-O,Bc4,Nb6,Rb1,h5,Bxg5,hxg4,Bxf6,Bxf6,hxg4,Rdg8,Re4,Qd7,Kf1,Rh1+,Ng1,Bg5,Be2,Bf4,Bf3,Rh2,Ne2,Bg5,Kg1,Rgh8,Bg2,f6,a4,Qh7,Ng3,Bf4,Nh5,Rxh5,gxh5,Qxf5,Qf3,Rxh5,b4,Nxa4,Ra1,b5,c4,Bh2+,Kf1,Qxf3,Bxf3,Rg5,Bg2,cxb4,Rh4,Bf4,cxb5,Nc5,Rxa7,Kb8,b6,Rg8,Bh3,b3,Bf5,b2,Ra2,Bc1,Rh7,Rg5,Bb1,Rg4,Raa7,Rg8,Ra3,Rc8,Rf7,f5,Bxf5', 'b1=Q,Bxb1,Bxa3', 'https://lichess.org/training/b1Vvl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b1w51', 'Blitz', 'Machobot', 1757, 'fistinganal', 1764, 'd4,d5,Nc3,Nf6,Bf4,c6,e3,Bf5,f3,Nbd7,g4,Bg6,h4,h6,Bd3,e6,Bxg6,fxg6,Nge2,Bb4,Qd3,Qb6,Qxg6+,Kf8,g5,hxg5,Bxg5,Nh7,Qxe6,Nxg5,Qf5+,Nf6,Qxg5,Bxc3+,Nxc3,Qxb2,Kd2,b5,Rab1,Qa3,Rb3,Qa5,Rg1,Qc7,Ra3,a6,Rb3,a5,Rgb1,Qh2+,Kd3,Rxh4,Rg1,Rh7,Nxb5,cxb5,Rxb5,Re8,Rxa5,Qf2,Rg2,Qf1+,Kd2,Qb1,Ra6,Rc8,Qf5,Rxc2+', 'Qxc2,Qb4+,Qc3,Qxc3+,Kxc3', 'https://lichess.org/training/b1w51');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B1wHu', 'Blitz', 'sagaba3', 1619, 'SpaceGandalf', 1619, 'd4,d5,c3,e5,e3,exd4,cxd4,Be7,b4,Nf6,a3,Be6,Nf3,c6,Bd3,a5,O-O,axb4,Nbd2,bxa3,Re1,O-O,e4,dxe4,Nxe4,Nxe4,Bxe4,Bd5,Bc2,Bb4,Qd3,g6,Re5,Nd7,Bg5,f6,Rxd5,cxd5,Bh6,Rf7,Nh4,Ra6,Nxg6,Re6,Nf4,Re4,Nxd5,Bd6,Qxe4,Nb6,Nxf6+,Qxf6,Qe8+,Bf8,Bxf8', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/B1wHu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b1YVA', 'Blitz', 'Mat_Sta', 1807, 'sergeialex', 1799, 'e4,e5,Nf3,d6,d4,Bg4,dxe5,Nc6,exd6,Bxd6,Nc3,Nf6,h3,Be6,Bd3,Qe7,O-O,O-O-O,Be3,h6,a3,g5,b4,g4,hxg4,Nxg4,b5,Nce5,Bxa7,Nxf3+,Qxf3,h5,a4,Ne5,Qe2,Qg5,Be3,Qg6,a5,Rdg8,g3,Bg4,Qd2,Nf3+,Kg2,Nxd2,Bxd2,h4,a6,bxa6,Rxa6,hxg3,fxg3,Bh3+,Kf2,Bxf1,Kxf1,Qxg3,e5,Rh2,Ra8+,Kd7', 'Bf5+,Ke7,Nd5#', 'https://lichess.org/training/b1YVA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b1ZAS', 'Blitz', 'lets_learn_it', 1911, 'ravish1234556', 1877, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nf6,Ne2,Nc6,O-O,e5,d4,e4,c4,dxc4,Bxc4,Bd6,Qb3,O-O,d5,Ne5,Bg5,Nxc4,Qxc4,h6,Bxf6,Qxf6,Nbc3,Bf5,Ng3,Rac8,Qe2,Bxg3,fxg3,Qd4+,Kh1,e3,Rfe1,Rfe8,Rad1,Qb4,d6,Red8,g4,Bg6,d7,Rc7,Qxe3,Rcxd7', 'Rxd7,Rxd7,Qe8+,Kh7,Qxd7', 'https://lichess.org/training/b1ZAS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B23fL', 'Blitz', 'ElOsco', 1945, 'kapadamas', 1909, 'e4,d5,exd5,Qxd5,d4,Qd8,c4,c6,Nc3,Bf5,Nf3,Nf6,Bg5,e6,Bd3,Bg6,Qe2,Be7,O-O-O,O-O,Bxg6,hxg6,h4,Nbd7,Ne5,Qc7,Nxd7,Qxd7,Ne4,Nxe4,Qxe4,Bf6,Bxf6,gxf6,h5,f5,Qf4,Kg7,hxg6,fxg6,Qe5+,Rf6,Rh7+,Kxh7,Qxf6,Qg7,Rh1+,Kg8,Qxe6+,Kf8,Qd6+,Kg8,d5,cxd5,Qxd5+,Kf8,Qd6+,Kg8,Qe6+,Kf8,Re1,Rd8,f4,a6,b3,Qa1+,Kc2,Qxa2+,Kc3,Qa5+,b4,Qa3+,Kc2,Qa2+,Kc3', 'Qd2+,Kb3,Rd3+,Ka4,Qa2#', 'https://lichess.org/training/B23fL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B2asH', 'Rapid', 'Mahmoud_m_khatab', 1658, 'poziomk4', 1688, 'e4,c5,Bc4,e6,Nf3,Nc6,d4,cxd4,Nxd4,d5,exd5,exd5,Nxc6,bxc6,Bd3,Nf6,Bg5,h6,Bh4,Bc5,O-O,O-O,Qf3,Bg4,Bxf6,Bxf3,Bxd8,Bxg2,Kxg2,Rfxd8,Nc3,Rd6,Rae1,Rf6,Na4,Bd6,Nc3,Rb8,Nd1,c5,b3,Rc8,c4,d4,f3,Bc7,Nf2,g5,Ne4,Rc6,Ng3,Ba5,Re7,Ra8,Nf5,Kf8,Rd7,Re6,Be4,a6,Bxa8,Re2+,Kg3,Rxa2,Nxh6,Kg7,Nxf7,Kf6,Nd6,d3,Ne4+,Kg6,Rxd3,Bc7+,Kg4,Rg2+,Kh3,Rxh2+,Kg4,Rg2+,Kh3', 'Rh2+,Kg4,Rh4#', 'https://lichess.org/training/B2asH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b2BHi', 'Rapid', 'lolillo', 1718, 'lev2010', 1717, 'c4,e5,g3,Nc6,Bg2,d6,d4,Nxd4,Nc3,a6,f4,exf4,Qxd4,fxg3,hxg3,Nf6,Nf3,Bg4,Bg5,Be6,O-O-O,Be7,Kb1,Ng4,Bxe7,Qxe7,Qxg7,O-O-O,Qd4,c5,Qg1,Bxc4,Rd2,Rde8,Bh3,f5,e4,h5,Bxg4,fxg4,Nh4,b5,a3,b4,axb4,cxb4,Nd5', 'Qxe4+,Ka1,Bxd5', 'https://lichess.org/training/b2BHi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b2E87', 'Rapid', 'lmoura78', 1620, 'Thebigusy', 1710, 'e3,e5,b3,d5,Bb2,d4,exd4,exd4,Nf3,Bg4,h3,Qe7+,Qe2,Qxe2+,Bxe2,Bxf3,Bxf3,Nc6,Bxc6+,bxc6,Bxd4,O-O-O,Bxa7,c5,b4,Rd5,bxc5,Kb7,Nc3,Re5+,Kd1,Kxa7,Na4,Re4,Nc3,Rc4,Nb5+,Kb7,Rb1,Kc6,Ke2,Bxc5,d4,Bxd4,c3,Bf6,Rhd1,Ne7', 'Na7+,Kc5,Rb5#', 'https://lichess.org/training/b2E87');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B2exk', 'Classical', 'alex08_koval', 2002, 'Bijoy9', 2042, 'e4,c5,Nc3,g6,g3,Bg7,Bg2,Nc6,d3,Nf6,f4,d6,Nf3,O-O,h3,Rb8,O-O,b5,g4,b4,Ne2,Bb7,Ng3,Nd4,Be3,Nxf3+,Bxf3,d5,Bxc5,Qc7,Be3,dxe4,Nxe4,Nxe4,Bxe4,Bxe4,dxe4,Bxb2,Rb1,Bg7,Qe2,Rfc8,Rfc1,Qa5,e5,Qxa2,Ra1,Qb2,Rxa7,b3,Rxe7,Rxc2,Rxc2,bxc2,Qd2,Rc8,Qc1,Qxc1+,Bxc1,Rd8,Kg2,Rd1,Ba3,c1=Q,Re8+,Bf8,Rxf8+,Kg7,Bxc1,Kxf8,Be3,Ke7,f5,Rd5,Bg5+,Kd7,Bf4,Rd3,h4,Kc6,h5,gxf5,gxf5,Kd5,e6,fxe6,f6,Kc6', 'f7,Rd8,Bh6', 'https://lichess.org/training/B2exk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B2gQp', 'Blitz', 'OwnOwn', 1537, 'inicnebojsa', 1687, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d3,c6,Nf3,g6,Bf4,Bg7,Be2,Nf6,O-O,O-O,Qd2,Re8,Rae1,Bg4,Bh6,Bxf3,Bxg7,Bxe2,Bxf6,Bxf1,Ne4,Bxg2', 'Qh6,exf6,Nxf6+,Qxf6,Rxe8#', 'https://lichess.org/training/B2gQp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b2h0J', 'Rapid', 'Paras1024', 2060, 'Tacloban7', 2035, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Nc3,Nf6,Bc4,e6,O-O,Be7,Bb3,Nc6,a4,O-O,Bg5,Qc7,Nf3,Qa5,Qd2,Bd7,Rfe1,Rad8,Rad1,Ne5,Nxe5,dxe5,Bxf6,Bxf6,Nd5,Qc5,Nxf6+,gxf6,Qd3,Kh8,Qf3,Qe7,Rd3,Bc6,Red1,Rxd3,Rxd3,f5,Qg3,Bxe4,Qxe5+,f6,Qxe6', 'Qxe6,Bxe6,Bxd3', 'https://lichess.org/training/b2h0J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B2klt', 'Rapid', 'weichi', 2206, 'KoreanChessBoy', 2273, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,Bc4,O-O,O-O,Re8,h3,a6,a4,c5,Nf5,Bxf5,exf5,Nc6,Be3,Nb4,Nd5,Nfxd5,Bxd5,Bf6,c3,Nxd5,Qxd5,Rb8,Rad1,Be5,Rfe1,Qb6,f4,Bf6,Bc1,Qc6,Rxe8+,Qxe8,Qxd6', 'Rd8,Qxd8,Bxd8', 'https://lichess.org/training/B2klt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b2KrD', 'Blitz', 'Reino2k', 1578, 'dario02it', 1632, 'Nf3,c5,b3,d5,e4,dxe4,Ne5,Qd4,Bb2,Qxb2,Nc3,Qa3,Bb5+,Bd7,Nc4,Qb4,a3,Qxb5,Nxb5,Bxb5,O-O,Nf6,Re1,e6,Ne3,Be7,c4,Bc6,b4,b6,b5,Bb7,a4,a5,bxa6,Nxa6,a5,bxa5,Rxa5,Nb4', 'Qa4+,Nd7,Rxa8+,Bxa8,Qxa8+', 'https://lichess.org/training/b2KrD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B2OqG', 'Rapid', 'pladeira', 1548, 'schachgottxxl', 1532, 'Nf3,d5,c4,Nf6,g3,b6,Bg2,c6,cxd5,cxd5,d4,e6,O-O,Bd6,b3,O-O,Bb2,Nc6,Re1,Ba6,Nbd2,Rc8,e4,Nb4,Re2,Bxe2,Qxe2,Nc2,Rc1,dxe4,Nxe4,Nxd4,Nxf6+', 'Qxf6,Nxd4,Rxc1+,Bxc1,Qxd4', 'https://lichess.org/training/B2OqG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b2Ov1', 'Rapid', 'polivai', 1807, 'damien123', 1718, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nf5,d6,Nc3,Bxf5,exf5,Qf6,g4,g6,Nd5,Qd8,fxg6,fxg6,g5,Be7,h4,Qa5+,c3,h6,Qc2,Qxd5,Qxg6+,Kd7,Rh3,hxg5,Rd3,Qe6', 'Bh3,Qxh3,Rxh3', 'https://lichess.org/training/b2Ov1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b2Pbo', 'Classical', 'dimi2709', 1609, 'turdfergeson', 1752, 'e4,e6,Nf3,Nc6,Nc3,Bb4,d4,Bxc3+,bxc3,d5,exd5,Qxd5,Ba3,Nf6,c4', 'Qa5+,Qd2,Qxa3', 'https://lichess.org/training/b2Pbo');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 8;
-    }
-
-}
\ No newline at end of file
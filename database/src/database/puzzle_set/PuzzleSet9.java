@@ -1,1020 +0,0 @@
-
-package database.puzzle_set;
-
-import database.PuzzleDB;
-import database.PuzzleSet;
-
-import java.sql.SQLException;
-
-public class PuzzleSet9 implements PuzzleSet {
-
-    @Override
-    public void dumpPuzzle(PuzzleDB puzzleDB) throws SQLException {
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B2pxC', 'Classical', 'Ferrnando', 1693, 'Darkerud', 1709, 'd4,e6,c4,c5,e4,d5,dxc5,Bxc5,exd5,exd5,Qxd5,Qxd5,cxd5,Nf6,Nc3,Bb4,Bc4,O-O,Bg5,Ne4,Bd2,Bf5,Nge2,Re8,f3,Nxd2,Kxd2,Nd7,a3,Bc5,Bd3,Bxd3,Kxd3,Nb6,Kc2,Nxd5,Kb3,Rad8,Ng3,Re3,Rac1,b6,Ne4,Nf4,Rc2,h6,Ka2,a6,Nxc5,bxc5,Ne4,c4,Rxc4,Nxg2,Rg1,Nh4,Nf6+,Kf8,Rxh4,gxf6,Rxh6,Ke7,Rh4,Rxf3', 'Re1+,Kf8,Rh8+,Kg7,Rxd8', 'https://lichess.org/training/B2pxC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B2sGd', 'Rapid', 'falconeone', 1708, 'awoj123', 1798, 'e4,c5,Bc4,e6,a3,d5,exd5,exd5,Ba2,Nf6,d3,h6,Ne2,Bg4,O-O,Be7,Nbc3,d4,Ne4,Nxe4,dxe4,O-O,f3,Bh5,Nf4,Bd6,Nxh5,Qh4,Ng3,Bxg3,hxg3,Qxg3,Bd5,Nc6,Bd2,Rae8,Be1,Qg6,Bf2,Re5,f4,Rh5,f5,Qg5,Qf3,Ne5,Qg3,Qxg3,Bxg3,Ng4,Rf4,Ne3,Rc1,Rg5,Bh4,Rxg2+,Kh1,Rxc2,Rxc2,Nxc2,Be7,d3,Bb3,Rc8,Rf1,b5,Rg1,c4,Bxc2,dxc2,Rc1,Re8,Bb4,Rxe4,Rxc2,Rf4,Re2,Rxf5,Re7,a6,Kg2,h5,Kg3,g5,Bc3,Kf8,Ra7,h4+,Kg4,Rf4+,Kxg5,Re4,Rxa6,Re6,Ra8+,Ke7,Kxh4,Rb6,Rc8,Rb7,Rc5,Ke6,Re5+,Kd7,Kg5,Rb6,Bb4', 'f6+,Kf4,fxe5+', 'https://lichess.org/training/B2sGd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b2U8w', 'Blitz', 'Binik_Novosib', 1554, 'Aditya_Kandya', 1612, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Bf5,Bc4,e6,Nge2,c6,Bf4,Bd6,O-O,Nf6,Bg5,h6,Bh4,g5,Bg3,h5,a3,h4,Bxd6,Qxd6,b4,Ng4,f4,Nd7,Qd2,e5,fxe5,Ndxe5,Rxf5,Nxc4,Qxg5,Qxh2+,Kf1,Nce3+,Ke1,Qh1+,Kd2,Qxa1,Re5+,Kd7,Qe7+,Kc8,Qe8+,Kc7,Re7+,Kb6,Nd5+,cxd5,Rxb7+,Kxb7,Qd7+,Kb6,Qd6+,Kb5', 'Qc5+,Ka4,Qa5#', 'https://lichess.org/training/b2U8w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b2VhN', 'Rapid', 'AliKhaled98', 1815, 'stuartjohnson26', 1807, 'e4,c5,Nf3,e6,Bc4,Nf6,Nc3,Be7,e5,Ng8,d4,cxd4,Nxd4,Nc6,O-O,f6,Bd3,fxe5,Qh5+,Kf8,Nxc6,bxc6,Qxe5,Nf6,Bg5,d6,Qf4,Kg8,Bxf6,Bxf6,Ne4,Be5,Qg4,d5,Nc5,Qd6,Ne4,Bxh2+,Kh1,dxe4,Bxe4,Be5,Rad1,Qf8,Bxc6,Rb8,Bd7,Bxd7,Rxd7,Rb4', 'Qxe6+,Qf7,Qxf7#', 'https://lichess.org/training/b2VhN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b2Wyq', 'Rapid', 'sachess233', 1816, 'Lambargini', 1818, 'd4,e6,Nf3,d5,e3,c5,c3,Nc6,Ne5,Nxe5,dxe5,Bd7,Nd2,f6,exf6,Nxf6,Bd3,c4,Bc2,Bd6,O-O,Qc7,Nf3,O-O-O,Qd4,Kb8,e4,Nxe4,Bxe4,dxe4,Qxe4,Bc6,Qxc4,Rhf8,Nd4', 'Bxh2+,Kh1,Bxg2+,Kxg2,Qxc4', 'https://lichess.org/training/b2Wyq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B2zXf', 'Blitz', 'jasamja', 2202, 'vincephan', 2149, 'c4,Nf6,Nc3,c6,Nf3,e6,e4,d5,cxd5,cxd5,e5,Nfd7,d4,Nc6,Bd3,Qb6,Bb5,a6,Ba4,Bb4,O-O,O-O,a3,Be7,Be3,Qxb2,Bxc6,Qxc3,Bxd7,Bxd7,Bg5,Bxa3,Re1,Bb4,Re3,Qc7,Rb1,a5,Re2,Bb5,Rc2,Qd7,Bd2,Ba4,Bxb4,Bxc2,Qxc2,axb4,Rxb4,Rfc8,Qb1,Qe7,h4,h6,Rxb7,Qd8,Qb4,Rcb8,Rxb8,Rxb8,Qc5,Qb6,Qe7,Qb1+,Kh2,Qe4,Qc7,Rf8,Qe7,Qe2,Kg3,Qe4,Qd7,h5,Qe7,Qg4+,Kh2,f6,exf6,Rxf6,Qe8+,Kh7,Ng5+,Kh6', 'Qh8+,Kg6,Qh7#', 'https://lichess.org/training/B2zXf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b30Eo', 'Rapid', 'Eva7755', 1792, 'martinezperia', 1822, 'e4,e5,Qh5,Nc6,Bc4,g6,Qf3,Qf6,Qb3,Na5,Qc3,Nxc4,Qxc4,c6,Nf3,Bg7,d3,Qe6,Qb4,Bf8,Qc3,Bd6,Na3,b5,Qa5,Nf6,Bd2,O-O,c4,Bc5,cxb5,Ng4,O-O,Bb6,Qb4,c5,Qc3,a6,Nc4,axb5,Nxb6,Qxb6,Nxe5', 'b4,Qb3,Nxe5', 'https://lichess.org/training/b30Eo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B34gC', 'Rapid', 'skaulen', 1996, 'akins74', 2004, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,Nf6,f3,a6,Be3,g6,Qd2,Bg7,O-O-O,Bd7,h4,h5,Nxc6,bxc6,Bc4,a5,Bf4,Be6,Bxe6,fxe6,e5,Nd5,Nxd5,cxd5,exd6,Qb6,b3,a4,Qd3,Kf7,Be3,Qb4,Bd4,Qxd4,Qxd4,Bxd4,Rxd4,axb3,Rf4+,Ke8,Rb4,Kd7,a4,Rhc8,Rxb3,Rxa4,dxe7,Kxe7,Kb2,Rac4,Rc1,Rxh4,Rb6,Kf6,Re1,Re8,Rd6,Kf5,Rxd5+,exd5,Rxe8,Rh2,Re2,h4,Kc3,h3', 'g4+,Kf4,Rxh2', 'https://lichess.org/training/B34gC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B34HU', 'Classical', 'x3x3x0x3x', 1700, 'andrew61', 1729, 'e4,c5,Nf3,Nc6,Bc4,e6,c3,a6,d4,cxd4,cxd4,d5,exd5,exd5,Be2,h6,h3,Nf6,Bf4,Bb4+,Nbd2,O-O,a3,Bxd2+,Qxd2,Ne4,Qc2,Qa5+,b4', 'Nxb4,axb4,Qxa1+', 'https://lichess.org/training/B34HU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B3Fc3', 'Rapid', 'Chessvesterson', 1799, 's89515090608s', 1792, 'e4,a6,d4,b6,Nc3,Bb7,Nf3,d6,Bc4,e6,d5,e5,O-O,h6,a4,g6,b4,Bg7,b5,Ne7,Be3,O-O,Qd2,Nd7,Bxh6,Nc5,Bxg7,Kxg7,g3,Rh8,Ng5,Rh5,f4,Bc8,h4,a5,f5,gxf5,exf5,f6,Ne6+,Bxe6,fxe6,Qe8,Be2,Rh6,Qe3,Qg6,Bd3,Qg4,Be2,Qd4,Qxd4,exd4,Nd1,Ne4,Rf4,Nxg3,Rg4+,Kf8,Rxg3,Nf5,Rf3,Nxh4,Rh3,Rg6+,Kh1,Rh6,Kh2,Ke7,Nf2,Rg8,Bf1', 'Nf3+,Kh1,Rg1#', 'https://lichess.org/training/B3Fc3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b3FC8', 'Rapid', 'krishnaduboliya', 1829, 'Sycophancy', 1845, 'e4,c5,Nf3,d6,Bc4,Nf6,d3,Nc6,c3,a6,Be3,e6,Nbd2,d5,exd5,exd5,Bb3,Be7,d4,c4,Bc2,O-O,Qe2,b5,h4,Qc7,Nh2,Re8,g4,Bd6,Nhf1,Nxg4,O-O-O,Nxe3,Nxe3,f5,Qh5,g6,Qg5,Bf4', 'Nxd5,Bxg5,Nxc7', 'https://lichess.org/training/b3FC8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B3Gvr', 'Rapid', 'yankar', 1803, 'fclgomes', 1803, 'd4,g6,c4,Bg7,Nc3,d6,e4,Nf6,Be2,O-O,Bg5,h6,Be3,e6,Qd2,g5,h4,Nh7,hxg5,Nxg5,Nh3,f6,f4,Nxh3,Rxh3,f5,g4,Nd7,gxf5,exf5,exf5,Nf6,Bd3,Re8,O-O-O,Qe7,Rg1,Bd7,Rxh6,Qxe3,Qxe3,Rxe3,Rxf6,Rxd3,Rfg6,Bxf5,Rxg7+,Kf8,Rxc7,Re8,Rh1,Bh3,Nd5,Re2,Rh7,Rdd2,Rxb7,Rc2+,Kb1,Rxc4,Nc3,Bf5+,Kc1', 'Rc2+,Kd1,Rxd4+,Ke1,Rc1+', 'https://lichess.org/training/B3Gvr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b3Hap', 'Rapid', 'Dancht', 2147, 'Sean777', 2117, 'e4,c6,d4,d5,e5,c5,c3,cxd4,cxd4,Nc6,Nf3,Bg4,Be3,e6,a3,Qa5+,Nc3,Qb6,Rb1,Rc8,h3,Bh5,g4,Bg6,Bd3,Nge7,O-O,Bxd3,Qxd3,h5,Kg2,hxg4,hxg4,Ng6,b4,Nh4+,Nxh4,Rxh4,Kg3,Rh8,Rh1,Rg8,f4,Be7,f5,exf5,Na4,Qc7,Qxf5,g6,Qf3,f6,Qxd5,Rf8,Bf4,fxe5,dxe5,Rd8,Qe6,Rd3+,Kg2,Rxf4,Qxg6+,Kd7,Qxd3+,Kc8,Rh8+,Bd8,Kg3,Rxg4+,Kxg4', 'Nxe5+,Kf4,Nxd3+', 'https://lichess.org/training/b3Hap');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B3hh5', 'Rapid', 'aristokleev76', 2154, 'DejanRajcevski', 2214, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,bxc6,Bd3,d6,O-O,Ne7,Bg5,f6,Bh4,O-O,Nd2,Ng6,Bg3,Ne5,Nb3,Bb6,Kh1,Bg4,f3,Bh5,Bxe5,fxe5,Bc4+,Kh8,g4,Bg6,Nc1,Qh4,Ne2,Qh3,Ng3,Be3,Qe2,Bf4,Nf5,Be8,Rg1,g6,Ng3,Bd7,Qf2,a5,Ne2,Bxh2,Qxh2,Qxf3+,Qg2,Bxg4,Raf1,Qxg2+,Kxg2,Kg7,Rxf8,Rxf8,Rf1', 'Bh3+,Kxh3,Rxf1', 'https://lichess.org/training/B3hh5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b3kmR', 'Blitz', 'alcantarilla2', 2162, 'Cardenas07', 2122, 'Nf3,Nf6,b3,e6,Bb2,c5,c4,b6,e3,Bb7,Be2,Be7,O-O,O-O,d4,d6,Nc3,Nbd7,Qd2,a6,Rac1,Qc7,Rfd1,Rfd8,Ng5,h6,Nf3,Nf8,Ne1,g5,d5,e5,e4,Bc8,h4,N6h7,Rc2,gxh4,Qxh6,Bg5,Qh5,Ng6,Nf3,Nf4,Qxh7+,Kxh7,Nxg5+,Kg6,Nf3,Qe7,Kf1,Rg8,Bc1,Kh7,Bxf4,exf4,e5,Bf5,Bd3,Bxd3+,Rxd3,dxe5,Ne4,Rad8,d6,Qe6,Rd5,Qg6,Neg5+,Kh8,Nxe5,Qxc2,Ngxf7+,Kg7,Nxd8,Rxd8,Nc6,Qb1+,Ke2,Rd7,Ne5,Qxa2+,Kf3,Qxb3+,Kg4,Rxd6,Rxd6,b5,Rg6+,Kf8,Kf5,bxc4,Kf6,Qb2,Ke6,c3', 'Nd7+,Ke8,Rg8#', 'https://lichess.org/training/b3kmR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B3KnW', 'Classical', 'Element00', 1730, 'charleskingl', 1728, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke6,Nc3,Nb4,Nxd5,Nxd5,Kf1,c6,d4,b5,Bb3,Qf6,Bxd5+,cxd5,Qe2,Kd6,g3,Ba6', 'dxe5+,Qxe5,Bf4', 'https://lichess.org/training/B3KnW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b3NrW', 'Rapid', 'jeigoth', 1934, 'Ramonerik', 2253, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,d6,Bb3,a6,Nbd2,h6,h3,Ba7,Nf1,O-O,Ng3,Be6,O-O,d5,Qe2,Re8,Nh4,Nxe4,dxe4,Qxh4,exd5,Bxh3,gxh3', 'Qxg3+,Kh1,Qxh3+', 'https://lichess.org/training/b3NrW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b3reI', 'Blitz', 'logomind', 1641, 'Dietryh', 1617, 'e4,c5,Nf3,Nc6,d4,cxd4,c3,dxc3,Nxc3,e6,Bc4,b6,O-O,Bb7,Qe2,Bb4,Rd1,Bxc3,bxc3,Nge7,Ba3,O-O,Bd6,Re8,a3,a6,Rab1,b5,Ba2,Ng6,c4,e5,cxb5,axb5,Rxb5,Ba6,Qc4,Bxb5,Qxb5,Nf4,Qc4,Qf6,Rb1,Qxd6,Qxf7+,Kh8,Ng5,Qxa3', 'Qg8+,Rxg8,Nf7#', 'https://lichess.org/training/b3reI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b3TFZ', 'Classical', 'ABerkD', 2003, 'Bogi62', 2076, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Bd3,c5,c3,Nc6,Ne2,f6,exf6,Nxf6,Nf3,cxd4,cxd4,Bd6,O-O,O-O,Bf4,Bxf4,Nxf4,Ne4,Nh5,Bd7,Ng3,Ng5,Ne5,Nxe5,dxe5,Rc8,Qb3,Qc7,f4,Nf7,Kh1,Nh6,Ne2,Bc6,Rac1,Qe7,Nd4,Nf5,Bxf5,exf5,Rc2,g5,e6,gxf4,Rxf4,Rf6,Rcf2,Qc5,Rf1,Rcf8,Qe3,Bb5,e7,Re8,Rxf5,Rxe7,Qg5+,Rg6,Rf8+,Kg7,Ne6+,Rxe6', 'R1f7#', 'https://lichess.org/training/b3TFZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b3UsU', 'Blitz', 'Gr3yZ', 1664, 'wmvnfff13', 1672, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,Qe7,Be2,Nf6,Bd2,Nxe4,Nc3,Nxd2,Qxd2,d6,Nd5,Qe6,Nxc7+,Kd7,Nxe6,Kxe6,Bg4+,f5,Qe2+,Ne5,Bh3,b6,f4,a5,fxe5,Ba6,Qf2,Re8,Qxf5+,Kd5,O-O-O+,Kc6,Qe4+,Kc7,exd6+,Bxd6,Qd3,Bxd3,Rxd3,Re1+,Rd1', 'Bf4+,Kb1,Rxd1#', 'https://lichess.org/training/b3UsU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b3vnm', 'Rapid', 'Tomus27', 1655, 'stalin947', 1640, 'e4,e5,Nf3,d5,exd5,Qxd5,Nc3,Qe6,b3,e4,Nd4,Qg6,h3,Bc5,Nde2,Ne7,Bb2,Qf6,Nxe4,Bxf2+,Nxf2,Qxb2,c3,Qa3,Nd3,O-O,Nd4,Nd5,Nb5,Qe7+,Qe2,Qxe2+,Bxe2,Bf5,O-O-O,a6,Nd4,Bg6,g3,c5,Nf3,Nd7,Nfe5,Nxe5,Nxe5,Be4,Rhf1,Rae8,Bd3', 'Rxe5,Bxe4,Rxe4', 'https://lichess.org/training/b3vnm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B3VzS', 'Rapid', 'mrkristof', 1812, 'Jerry58', 1906, 'Nf3,d5,d4,Nf6,e3,g6,c4,Bg7,Nc3,O-O,cxd5,Nxd5,Bc4,Nxc3,bxc3,c5,O-O,Qc7,Bb3,Nc6,Re1,Bg4,Ba3,cxd4,exd4,Bf6,Qd3,Bf5,Qd2,Rad8,Re3,Rfe8,Rae1,e5,d5,e4,Bc5,Qc8,Nd4,Ne5,Nxf5,Qxc5,Ng3,Bg5,Nxe4,Bxe3,Rxe3,Qb6,d6,Ng4,Qd5,Rxe4', 'Qxf7+,Kh8,Rxe4', 'https://lichess.org/training/B3VzS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B42hC', 'Rapid', 'naresh89', 2168, 'Reincarnatedswazi', 2105, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,e6,Nc3,Be7,O-O,O-O,Kh1,a6,f4,Qc7,a4,Bd7,f5,Nc6,fxe6,fxe6,Nf3,Qb6,Qe1,Ng4,Bd2,Nce5,Qg3,Nxf3,gxf3,Ne5,Be2,Rf7,f4,Ng6,b3,Raf8,Rf3,Bc6,h3,d5,Bd3,Bh4,Qg4,dxe4,Nxe4,Qd4,Bc3,Qd8,Raf1,Qc8,Kh2,Be7,Bd2,Nh4,R3f2,Bd7,Ng5,Bxg5,Qxg5,Nf5,Rg1,h6,Qg4,e5,fxe5,Qc5,Rgg2,Qxe5+,Bf4,Qa1,Bc4,Kh8,Bxf7,Rxf7,Rd2', 'Ne3,Bxe3,Bxg4', 'https://lichess.org/training/B42hC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b4b5q', 'Blitz', 'knightsonboard-ca', 1985, 'NEE960', 1992, 'e4,c6,Nf3,d5,Nc3,dxe4,Nxe4,Nd7,d4,Ngf6,Ng3,e6,Bd3,Bd6,Bg5,O-O,Qd2,Qb6,O-O-O,a5,h4,a4,h5,a3,b3,c5,Rhe1,cxd4,Nxd4,Be5,Rxe5,Nxe5,Bxf6,Nxd3+,Qxd3,gxf6,h6,e5,Nh5,exd4', 'Qg3+,Bg4,Qxg4+,Kh8,Qg7#', 'https://lichess.org/training/b4b5q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b4BAg', 'Blitz', 'Konstantin228', 1839, 'Swineflu92', 1895, 'e4,g6,d4,Bg7,c4,c5,d5,d6,Nc3,e5,dxe6,Bxe6,Bd2,Nc6,Nf3,Nf6,Rc1,O-O,h3,Rc8,b3,a6,Be2,Qd7,Bf4,Rfd8,O-O,Nh5,Bh2,Bh6,Rb1,Nf4,Bxf4,Bxf4,Nd5,Bxd5,Qxd5,Ne7,Qd3,Qe6,Ne1,Nc6,Bf3,Ne5,Qe2,b5,cxb5,axb5,g3,Bh6,Bg2,Rb8,f4,Nc6,Nf3,d5,e5,d4,Rbc1,Bf8,Nd2,Nb4,Ne4,d3,Qd2,Rbc8,a3,Na6,Nf6+,Kh8,Be4,c4,a4,Bb4,Qe3,d2,Rc2,d1=Q,Rxd1,Rxd1+,Kg2,Bc5,Qe2,Rg1+,Kh2,Rd8,bxc4,Rdd1,cxb5,Rh1+,Bxh1,Rxh1+,Kxh1', 'Qxh3+,Qh2,Qf1+,Qg1,Qxg1#', 'https://lichess.org/training/b4BAg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B4BTP', 'Blitz', 'Glommers', 2329, 'FM andresgv36', 2446, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d4,exd4,e5,Ne4,O-O,Be7,Nxd4,O-O,Nf5,d5,Nxe7+,Qxe7,Qxd5,Nc5,Bxc6,bxc6,Qf3,Qxe5,Nc3,Ne6,Be3,Rb8,Rab1,c5,Qg3,Qxg3,hxg3,Nd4,Nd5,Be6,Nxc7,Bxa2,Ra1,Rxb2,Bxd4,cxd4,Nxa6,Ra8,Nc5,Rc8,Ne4,Rcxc2,Rfd1,f5,Ng5,Rxf2,Rxd4,Rxg2+,Kh1,Rh2+,Kg1,Rbg2+,Kf1,Rd2,Rxa2', 'Rh1#', 'https://lichess.org/training/B4BTP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b4czk', 'Rapid', 'haider221221', 1727, 'hanywaheed', 1753, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nxc6,bxc6,Bd3,Bb7,O-O,Nf6,b3,d6,Bb2,e5,f4,Be7,fxe5,dxe5,Bxe5,O-O,Bxf6,Bxf6,c3,Bxc3,Nxc3,Qd4+,Kh1,Qxc3,Rc1,Qd4,h3,c5,a4,Rad8,Rf3', 'Bxe4,Bxe4,Qxd1+,Rxd1,Rxd1+', 'https://lichess.org/training/b4czk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b4dC4', 'Rapid', 'SophisticatedTarzan', 1817, 'mallorcatom', 1768, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxd4,exd4,d3,a6,a4,b6,O-O,d6,Bd5,Rb8,Qh5,Qf6,Nd2,g6,Qe2,Nh6,f4,Bg4,Qf2,Bg7,e5,dxe5,fxe5,Qe7,h3,Be6,Qxd4,O-O,Nf3,Nf5,Qc4,b5,axb5,axb5,Qb3,c6,Bxe6,fxe6,Bg5,Qd7,Kh2,Rfe8,g4,Nd4,Nxd4,Qxd4,Qc3', 'Bxe5+,Bf4,Bxf4+', 'https://lichess.org/training/b4dC4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B4iCS', 'Blitz', 'bhilaigaurav', 2391, 'IM purzelbaumer', 2400, 'd4,Nf6,Nf3,g6,Bf4,Bg7,e3,d6,Be2,O-O,O-O,c5,c3,b6,a4,a6,h3,Nbd7,Nbd2,Bb7,Bh2,Ra7,Re1,Qa8,Bd3,Ne4,Nxe4,Bxe4,Bxe4,Qxe4,Nd2,Qa8,b4,cxb4,cxb4,Rc8,Qb3,Rac7,Qd3,Rc3,Qe2,Rc2,Red1,Nf6,Qf3,Qxf3,Nxf3,Ne4,Rf1,h5,Ne1,R2c4,Nd3,Rc3,Nf4,Nf6,Rab1,g5,Ne2,Rc2,Ng3,h4,Nf5,Bf8,Rfe1,Ra2,Ra1,Rxa1,Rxa1,Rc2,a5,b5,Rb1,Kh7,f3,Kg6,e4,d5,Ne3,Rd2,e5,Nd7,Nxd5,Rxd4,Nc7,e6,Nxa6,Rd2,Nc5', 'Nxc5,bxc5,Bxc5+', 'https://lichess.org/training/B4iCS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B4IIN', 'Rapid', 'KATOR880', 1981, 'Darbelly', 1899, 'e4,c6,c3,d5,exd5,Qxd5,d4,Nf6,Nf3,Bg4,Be2,e6,h3,Bh5,Bg5', 'Bxf3,Bxf3,Qxg5', 'https://lichess.org/training/B4IIN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B4ILW', 'Rapid', 'Wineballs', 1651, 'derspringer', 1606, 'd4,d5,Bf4,Bf5,Nf3,Nf6,e3,e6,c4,Bd6,Bg3,O-O,Nbd2,Nbd7,c5,Bxg3,hxg3,Ne4,Bd3,Nxd2,Bxf5,Nxf3+,gxf3,exf5,g4,c6,Qd3,Nf6,Qxf5,Qd7,Qd3,h6,Ke2,Rfe8,Rag1,Kf8,g5,hxg5,Rxg5,Re6', 'Rh8+,Ng8,Qh7', 'https://lichess.org/training/B4ILW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b4Jnh', 'Rapid', 'PraveenRajaL', 1732, 'najwaimut', 1753, 'd4,d5,Nf3,e6,e3,Nf6,c4,dxc4,Bxc4,Ne4,O-O,Bd6,Bd3,f5,Nc3,Nxc3,bxc3,O-O,Bb2,Bd7,Qc1,Bc6,Ba3,Bxf3,gxf3,Qg5+,Kh1,Bxa3,Qxa3,Nc6,Rg1,Qh5,Rg2,Qxf3,Qb3,Rf6,Rg1,Rg6,Qxb7,Rb8,Qxc7,Rxg2,Rxg2,Qd1+,Rg1,Qf3+,Rg2,Qd1+,Rg1,Qf3+,Rg2,Qd1+,Rg1,Qf3+,Rg2,Qd1+,Rg1,Qf3+,Rg2,Qd1+,Rg1,Qf3+,Rg2,Qd1+,Rg1,Qf3+,Rg2,g6,h3,Qxh3+,Rh2', 'Rb1+,Bf1,Qxf1#', 'https://lichess.org/training/b4Jnh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b4lf5', 'Rapid', 'gokgoz1977', 1795, 'Christos22', 1829, 'd4,e6,c4,b6,e4,Ba6,Nc3,Bb4,Bd2,Bxc3,Bxc3,d5,e5,dxc4,Qa4+,b5,Qc2,Ne7,a4,c6,Qe4,Nd5,axb5,cxb5,Bb4,Nc6,Bd6,Bb7,Nf3,Nde7,Ng5,Nf5,d5,Ncd4,Qg4,Nc2+,Kd1,Nxa1,dxe6,fxe6,Nxe6,Nxd6,Nxd8,Rxd8', 'Qe6+,Kf8,exd6', 'https://lichess.org/training/b4lf5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b4LNB', 'Rapid', 'pbandjimm', 1884, 'ali-geko', 1779, 'e4,c5,Nc3,Nc6,Nf3,d6,Bc4,g6,d4,cxd4,Nxd4,Bg7,Nxc6,bxc6,f4,Nf6,Be3,Bg4,Be2,Bxe2,Qxe2,O-O,O-O-O,Qc7,g4,Rab8,b3,Qa5,Qd2,Nxe4,Nxe4', 'Qa3+,Kb1,Qb2#', 'https://lichess.org/training/b4LNB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B4nYc', 'Blitz', 'abdallah15', 1943, 'perico123', 1962, 'b3,d5,Bb2,Nc6,e3,e5,Bb5,Bd6,f4,exf4,Bxg7,Qh4+,Kf1,fxe3,Qe1,Qf4+,Nf3,d4,Bxh8,Bd7,Qh4,Qf5,Ke2,Qxc2,Bxc6,Bxc6,Bxd4', 'Bb5+,Kxe3,Qd3+,Kf2,Qe2+,Kg1,Qf1#', 'https://lichess.org/training/B4nYc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B4oNd', 'Classical', 'mahomitta', 1883, 'Sebastianmda', 1886, 'd4,d5,c4,c6,Nf3,Bg4,Ne5,Bf5,Nc3,Nf6,Bg5,e6,cxd5,exd5,e3,Be7,Qb3,Qb6,Be2,O-O,O-O,h6,Bxf6,Bxf6,g4,Be6,Na4,Qc7,Nc5,b6,Nxe6,fxe6,f4,Nd7,Ng6,Rf7,Qd3,Nf8,f5,exf5,gxf5,Re8,Rae1,Nxg6,fxg6,Rfe7,Bd1,Re4,Bf3,Rh4,Re2,Qd7,Rff2,Qh3,Bh1,Rg4+,Bg2,Qh5,Kf1,Qxh2', 'Bxd5+,cxd5,Rxh2', 'https://lichess.org/training/B4oNd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b4PB1', 'Rapid', 'IronKing_007', 1915, 'PornoActor', 2069, 'e4,c5,Nf3,Nc6,Bc4,g6,Nc3,Bg7,O-O,d6,d3,Bg4,Bxf7+,Kxf7,Ng5+,Ke8,Qxg4,Nd4,Be3,Nf6,Qd1,h6,Bxd4,cxd4,Ne6,Qc8,Nxg7+,Kf7,Nd5,Kxg7,Nxe7,Qd7,Nd5,Nxd5,exd5,Rae8,Qd2,Re5,c4,dxc3,Qxc3,Rc8,Qd4,Rc5,Rfe1,Rxd5,Qc3,Kh7,f4,Rc5,Qb3,Rxe1+,Rxe1,d5,Qb4,Rc7,Qd4,b6,Qe5,Rc2,a4,h5,b4,Rc7,h3,Qf7,Qg5,Rd7,d4,Kg7,Re5,Kh7,f5,gxf5,Rxf5,Qg6,Rxd5,Rxd5,Qxd5,Qb1+,Kh2,Qxb4,Qxh5+,Kg7,Qe5+,Kf7,d5,Qxa4,Qe6+,Kf8,Qd6+,Kg7,Qc7+,Kf6,d6,Qf4+,Kg1,Qe3+,Kf1,Qf4+,Ke1,Qe4+,Kd2,Qxg2+,Kd3,Qd5+,Kc2,Qc5+,Kb3,Qb5+,Kc2,Qf5+,Kb2,Qe5+,Qc3', 'Qxc3+,Kxc3,Ke6', 'https://lichess.org/training/b4PB1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b4Qat', 'Rapid', 'Treebeard1986', 1905, 'Emilbelchev111', 2031, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bb3,Be7,g4,Nc6,g5,Nxd4,Qxd4,Ng4,Qxg7,Rf8,f3,Ne5,f4,Nc6,Be3,b5,O-O-O,b4,Na4,Rb8,Qxh7,Na5,f5,Nxb3+,axb3,Bxg5,Bxg5,Qxg5+,Kb1,Qf6,Rxd6', 'Rh8,Qxh8+,Qxh8', 'https://lichess.org/training/b4Qat');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B4qRc', 'Rapid', 'danrad', 1827, 'floydian94', 1920, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,Nc6,Nxc6,bxc6,f4,Qb6,Bb3,Ng4,Qf3,Nf6,e5,Nd7,Be3,Qc7,O-O-O,Bb7,Rhe1,dxe5,Bf2,exf4,g3,O-O-O,Bxf7,e5,Qg4,Kb8,Be8,Nf6,Rxd8+,Qxd8,Qf5,Nxe8,Qxe5+,Bd6,Qd4,Nf6,Qa7+,Kc7', 'Bb6+,Kc8,Bxd8', 'https://lichess.org/training/B4qRc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B4Qrh', 'Rapid', 'MdRidwan', 1599, 'rssdyy', 1512, 'd4,d5,c4,c6,Nf3,Nf6,e3,Bg4,Nc3,e6,cxd5,cxd5,h3,Bh5,Be2,Bb4,O-O,Bxc3,bxc3,Qc7,a4,Qxc3,Ra3,Qc7,Bd2,Nc6,Qc1,O-O,Re1,Rfc8,Qb2,b6,Ne5,Nxe5,Bxh5,Nc6,Bf3,h6,Rc1,Qd6,Rac3,Qd7,Be2,Ne4,R3c2,Nxd2,Rxd2,Na5,Bb5,Qd6,Rxc8+,Rxc8,Rc2,Rxc2,Qxc2,f5,Qc8+,Kf7,Qc3,Kf6,Kf1,g5,g3,f4,gxf4,gxf4,Ke2,fxe3,Qxe3,h5,Qf3+,Kg5,Qg3+,Qxg3,fxg3,h4,Kf3,Nc4,Bd7,Nd2+,Kg2,hxg3,Kxg3,Ne4+,Kf3,Kh4,Bxe6', 'Ng5+,Kf4,Nxe6+,Ke5,Nc7', 'https://lichess.org/training/B4Qrh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b4SLd', 'Classical', 'chhe', 1772, 'adelsonab', 1661, 'd4,c6,c4,d6,e4,Na6,Nf3,h6,g3,g5,Bg2,f6,Nc3,Bg4,h3,Bh5,g4,Bf7,Qe2,Qa5,e5,Kd8,e6,Bg6,O-O,Nc7,d5,c5,Nd2,h5,f4,h4,fxg5,Bg7,gxf6,Bxf6,Nde4,Ne8,Nxf6,Nexf6,g5,Ne8,Rf8,Kc7,Nb5+,Kd8,Be4,Bh5,Qf1,a6,Nxd6,exd6,g6,Kc7,Qf7+,Kb6,Rxe8,Rxe8,Qxe8,Qe1+,Kh2,Qxe4,Qd8+,Ka7,Qxd6,Qxg6,Qxc5+,Ka8,Be3', 'Qg3+,Kh1,Bf3#', 'https://lichess.org/training/b4SLd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B4SU1', 'Rapid', 'amine2173', 1789, 'brianchanda3', 2081, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,Bc5,Be3,Qb6,Na4,Qa5+,c3,Bxd4,Bxd4,Nxd4,Qxd4,Nf6,Nc5,b6,Nb3,Qg5,g3,Bb7,f4,Qg6,Nd2,Bxe4,Nxe4,Qxe4+,Qxe4,Nxe4,Bg2,d5,O-O,f5,Bxe4,fxe4,f5,e5,Rad1,Rd8,Rf2,Kf7,Rfd2,d4,cxd4,exd4,Rxd4,Kf6', 'Rxd8,Rxd8,Rxd8', 'https://lichess.org/training/B4SU1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B4Woy', 'Blitz', 'torynash', 2407, 'NM fettywap1738', 2368, 'e4,e5,Nf3,Nc6,Bc4,Bc5,b4,Bxb4,c3,Be7,d4,d6,Qb3,Be6,Bxe6,fxe6,Qxe6,Qd7,Qb3,b6,O-O,Nf6,Re1,Na5,Qc2,exd4,cxd4,O-O,Nc3,c5,e5,dxe5,dxe5,Ng4,Qe4,Qe6,h3,Nh6,Bxh6,Qxh6,Nd5,Rae8,e6,Nc6,Nc7,Nd4,Nxd4,cxd4,Nxe8,Rxe8,Qxd4,Bf6,Qd5,Bxa1,e7+,Kh8,Qf7,Qg6', 'Qf8+,Rxf8,exf8=Q#', 'https://lichess.org/training/B4Woy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B4XDj', 'Rapid', 'jzfloyd', 1859, 'President_Obama', 1693, 'e4,d6,d4,Nf6,Bd3,g6,Ne2,Bg7,Ng3,e5,d5,Nbd7,O-O,a6,c3,c6,c4,Qc7,Na3,cxd5,cxd5,b5,Nc2,Nc5,f4,Qb6,Kh1,Ng4,f5,Nxd3,Qxd3,Nf2+', 'Rxf2,Qxf2,Be3', 'https://lichess.org/training/B4XDj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B4XwX', 'Classical', 'foufou76', 1668, 'AlMaZ1111', 1802, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Qf6,c3,Nh6,Be2,O-O,Qd2,a5,Bxh6,gxh6,O-O,Nxd4,cxd4,Qxd4,Qxh6,Qxb2', 'Qg5+,Kh8,Qxc5', 'https://lichess.org/training/B4XwX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B4zOX', 'Blitz', 'Joy4chess', 1578, 'hakanntekinn', 1575, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Bg5,Nc6,Be2,Bg4,Nd2,Bxe2,Qxe2,Nxd4,Qd1,Qd7,h3,b5,b3,b4,Nd5,Nxd5,exd5,Nf5,Rc1,f6,Be3,Nxe3,fxe3,e6,e4,f5,O-O,exd5,exd5,Rae8,Nf3,c5,Qc2,Re4,Ng5,Bd4+,Kh1,Re5,Ne6,Re8,Rcd1,Bc3,Rd3,Re7,Rxc3,bxc3,Qxc3,R7xe6,dxe6,Rxe6,Re1,Rxe1+,Qxe1,Kf7,Kg1,Qc6,Kf2,Qa6,Qe2,Qa3,Kf3,Qb4,Qe3,Qa3,Qd2,Qa6,Qd5+,Ke7,Qg8,Qc6+,Kg3,Qe4,Qxh7+,Kf6,Qh8+,Ke6,Qe8+,Kf6,Qf8+,Kg5,Qd8+,Kh6,Qh8+,Kg5,Qd8+,Kh6', 'Qh8+,Kg5,h4+,Qxh4+,Qxh4#', 'https://lichess.org/training/B4zOX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B4zyt', 'Rapid', 'aranjan', 1752, 'talking_chicken', 1753, 'c4,e5,Nc3,Nf6,e3,c6,Nf3,e4,Nd4,d5,d3,Bb4,Bd2,O-O,dxe4,Nxe4', 'Nxe4,Bxd2+,Nxd2', 'https://lichess.org/training/B4zyt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b50yV', 'Rapid', 'maqsud777', 1685, 'wdmm', 1621, 'e4,c6,d4,d6,Nf3,Bd7,Qd3,e5,dxe5,dxe5,Nxe5', 'Qa5+,Nd2,Qxe5', 'https://lichess.org/training/b50yV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B5519', 'Blitz', 'GM Esssquire', 2654, 'GM Nitratochess', 2569, 'e4,c6,d4,g6,Nc3,d5,Nf3,Bg7,h3,dxe4,Nxe4,Nf6,Nxf6+,exf6,Qe2+,Qe7,Qxe7+,Kxe7,Bd3,Be6,Bf4,Re8,c4,Na6,O-O-O,Nb4,Rhe1,Kd7,b3,Nxd3+,Rxd3,Bf5,Rde3,Bf8,Rxe8,Rxe8,Rxe8,Ba3+,Kd2,Kxe8,Kc3,a5,Bd2,Bb1,Be1,b5,Nd2', 'b4#', 'https://lichess.org/training/B5519');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B5b4y', 'Rapid', 'Jojola_frite', 1733, 'tarekbaziz', 1707, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nge7,d3,h6,Re1,a6,Ba4,b5,Bb3,O-O,c3,Na5,Bc2,Ba7,b4,Nb7,Nxe5,c6,Bb3,d5,exd5,cxd5,Qf3,Rb8,Qg3,Nf5,Qf3,Qb6,Bxd5,Nh4,Qg3,Be6,Bxb7,Nf5,Qf3,Rxb7,Be3,Nxe3,Rxe3,Qc7,Re2,Rd8,Nc6', 'Bd5,Ne7+,Qxe7,Rxe7,Bxf3', 'https://lichess.org/training/B5b4y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b5CiH', 'Blitz', 'paranoidZebra', 1799, 'fenek', 1833, 'e4,e6,f4,d5,e5,g6,Nf3,Bg7,d3,Ne7,Be2,c5,O-O,O-O,g4,Bd7,h4,d4,Qe1,Bc6,Qg3,Qd5,c4,dxc3,Nxc3,Qd7,Be3,b6,Rad1,Nd5,Nxd5,Qxd5,d4,c4,f5,Rd8,Kh2,Nd7,fxg6,hxg6,h5,b5,Ng5,Bh6,Nxf7,Bxe3,Nxd8,Rxd8,hxg6,Bxd4,Rxd4,Qxd4,Qh4,Qxe5+,Kh3,Qe3+,Rf3,Bxf3', 'Qh7+,Kf8,Qf7#', 'https://lichess.org/training/b5CiH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b5fMm', 'Rapid', 'Mansur2002', 1722, 'Fchar', 1608, 'e4,e5,Nf3,Nc6,Bc4,Bc5,Nc3,Nf6,d3,Bxf2+,Kxf2,Ng4+,Kf1,O-O,Ng5,d6,Nd5,Be6,Nxe6,fxe6+,Ke1,exd5', 'Bxd5+,Kh8,Qxg4', 'https://lichess.org/training/b5fMm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B5gV3', 'Blitz', 'Chess_for_some', 1631, 'iamth3aid0', 1574, 'e4,e5,b3,Nf6,Nc3,c6,g3,d5,Bg2,d4,Nce2,Bb4,a3,Ba5,b4,Bc7,d3,Be6,f4,O-O,f5,Bd7,h3,g6,g4,b6,Nf3,c5,Bh6,Re8,Qd2,Nc6,bxc5,bxc5,Qg5,Ba5+,Kf2,Rb8,h4,Kh8,h5,Ng8,hxg6,Qxg5,Bg7+,Kxg7', 'Rxh7+,Kf6,Rxf7#', 'https://lichess.org/training/B5gV3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B5hlU', 'Rapid', 'Kwexieboy', 1782, 'BonjourBart', 1773, 'd4,d5,Bf4,c5,c3,Nc6,Nf3,Bg4,e3,Nf6,Be2,e6,h3,Bxf3,Bxf3,cxd4,exd4,Bd6,Be3,e5,dxe5,Bxe5,Nd2,O-O,Bg5,Re8,O-O,h6,Bh4,Qb6,Bxf6,Bxf6,Rb1,Rad8,Qc2,Re5,Rfe1,Rxe1+,Rxe1,Ne5,Be2,Qc6,Qf5,d4,cxd4,Rxd4,Nf3,Nxf3+,Bxf3,Qb6', 'Re8#', 'https://lichess.org/training/B5hlU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b5HOk', 'Rapid', 'mago_pol1', 1939, 'jmwgroff', 2147, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,Qe2,b5,Bb3,Bc5,Nc3,d6,Nd5,Nd4,Nxd4,Bxd4,d3,c6,Nxf6+,Qxf6,O-O,O-O,Kh1,a5,a4,b4,f4,exf4,Bxf4,Qg6,h3,Bxb2,Rab1,Be5,Bxe5,dxe5,Rf3,Be6,Rbf1,Rad8,Qe3,Bxb3,cxb3,Qe6,Qa7,Qxb3,Qxa5,Ra8,Qxe5,Qxa4,Qe7,Qa2,Qxb4,Qe6,Rf5,h6,Qc5,Rad8,Re5,Qg6,d4,Qd6,Rd1,Rd7,Qxd6,Rxd6,d5,f6,Re6,Rxe6,dxe6,Rc8,Rd7,c5,e7,Kf7', 'Rd8,Kxe7,Rxc8', 'https://lichess.org/training/b5HOk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b5I8C', 'Blitz', 'Sandygm', 1805, 'kristofkegels', 2152, 'd4,Nf6,Bf4,g6,e3,Bg7,Nf3,O-O,c3,Nh5,Bg3,Nxg3,hxg3,d6,Nbd2,c5,Be2,cxd4,cxd4,Nc6,Qb3,Qb6,Ng5,Qxb3,axb3,h6,Ngf3,Bg4,O-O,Rfc8,Rfc1,e5,dxe5,Nxe5,Rxc8+,Rxc8,Nc4,Nxc4,bxc4,a6,Rb1,Bf5,Rd1,Bxb2,Rxd6,a5,Rb6,Bc1,Rxb7,a4,Ra7,a3,Nd4,Bb1,Nb3,Bb2,Nd2,a2,Nb3,Bc2,Rxa2,Bxb3,Rxb2,Bxc4,Bxc4,Rxc4,Rd2,Kg7,f4,Kf6,Kf2,h5,Kf3,Rc3,Re2,Kf5,Kf2,Ke4,Rd2,Rxe3,Rd7,Ra3,Rxf7,Ra2+,Kg1,Ra6,Re7+,Kf5,Kf2,Kg4,Re4,Ra2+,Kg1,Kxg3,Re6', 'Ra1+,Re1,Rxe1#', 'https://lichess.org/training/b5I8C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b5JwS', 'Classical', 'Gitu', 2108, 'kotleta_s_pI0r3shkoy', 2097, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,Bg4,d4,Nf6,h3,Bh5,Be2,Nc6,Be3,O-O-O,O-O,h6,a3,g5,b4,Qf5,b5,Bxf3,Bxf3,Nxd4,Bxd4,e5,g4,Qf4,Bxe5,Qxe5,Qe1,Qf4,Qe3,Qxe3,fxe3,Bc5,Bxb7+,Kxb7,Rxf6,Bxe3+,Kh1,Rd2,Rxf7,Bd4,Ne4,Re2,Nd6+,Kb8,Rd1,Be5,Nc4,Bf4,Kg1,Rhe8,Nb2,Rxc2,Nd3,Bg3,Nb4,Rb2,Na6+,Kb7,a4,Ree2,Rd8,Rb1+,Rf1', 'Bh2+,Kh1,Rxf1#', 'https://lichess.org/training/b5JwS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B5lII', 'Classical', 'Rich2', 1749, 'Petitjean209', 1758, 'e4,c5,c4,Nc6,d3,e5,Qh5,Nf6,Qg5,g6,Nf3,d6,Nc3,Bg7,Qh4,h6,Nd5,g5,Nxf6+,Qxf6,Qh5,Be6,Be3,O-O-O,Nd2,Qe7,Qd1,f5,exf5,Bxf5,Qa4,e4,Qb3,Nd4,Bxd4,Bxd4,O-O-O,e3,Nf3,e2,Re1,Be3+,fxe3,Qxe3+,Nd2,exf1=Q,Rhxf1,Qxd3,Qxd3,Bxd3,Rf3,Bg6,Re7,Rd7,Ree3,d5,Re5,b6,cxd5,Re8,Rxe8+,Bxe8,Rf8,Rd8,Nc4,Bb5', 'Nd6+,Kd7,Rxd8+,Kxd8,Nxb5', 'https://lichess.org/training/B5lII');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B5lLC', 'Rapid', 'henriqueze', 1877, 'Dr_Chess_Bear', 1889, 'c3,e5,g3,d5,e3,Nf6,Bg2,Bf5,Ne2,c5,d4,e4,O-O,h5,Nd2,h4,f3,hxg3,fxe4,gxh2+,Kh1,Bh3,Kxh2,Bxg2+,Kxg2,dxe4,Qb3,Qc7,Nf4,g5,Nh3,Ng4,Rh1,Nxe3+,Kf2,cxd4,cxd4,Ng4+,Ke1,e3,Nf1,Qa5+,Ke2,Qa6+,Qd3,Qxd3+,Kxd3,Nf2+', 'Nxf2,Rxh1,Nxh1', 'https://lichess.org/training/B5lLC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b5pOU', 'Rapid', 'Rongeld', 1727, 'dumb_pawn', 1701, 'd4,g6,c4,Bg7,Nc3,h6,g3,a6,Bg2,d6,e3,Nf6,Nge2,O-O,O-O,e5,d5,Bf5,Bd2,Qd7,Qc1,Bh3,e4,Bxg2,Kxg2,Qe7,Bxh6,Ng4,Bg5,f6,Bd2,f5,h3,Nf6,exf5,gxf5,Bg5,Qf7,Nd1,Ne4,Bh4,Qh5,Ne3,f4,Qc2,Qg6,Ng4,f3+,Kh2,fxe2,Qxe2,Ng5,Qe3,Nf3+,Kh1,Nxh4,gxh4,Rf4,Rg1,Qe4+', 'Qxe4,Rxe4,Nf6+,Kf7,Nxe4', 'https://lichess.org/training/b5pOU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B5QAI', 'Rapid', 'JuneS9804', 1677, 'mokoto', 1723, 'd4,d5,Nf3,Bg4,e3,Nf6,Be2,e6,O-O,Be7,a3,O-O,Nbd2,c5,c4,cxd4,Nxd4,Bxe2,Qxe2,Nc6,N2f3,Rc8,cxd5,Nxd5,Bd2,Nxd4,Nxd4,Bf6,Rac1,a6,b4,Qd7,Rxc8,Rxc8,Rc1,h6,h3,e5,Nb3,Qe6,Nc5,Qe7,e4,Nc7,Bc3,Nb5,Bb2,Nd4,Qe3', 'Bg5,f4,Bxf4', 'https://lichess.org/training/B5QAI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b5wmh', 'Classical', 'selfthoughtfiasco', 2117, 'ted6214', 1846, 'Nf3,Nf6,d4,d6,c4,Nbd7,Nc3,c6,e4,Qc7,Be2,e5,O-O,Be7,h3,O-O,Be3,Re8,d5,Nf8,Ne1,Ng6,Nd3,Rf8,Rc1,Ne8,c5,f5,dxc6,bxc6,f4,fxe4,Nxe4,d5,Nxe5,Nxe5,fxe5,Rxf1+,Qxf1,dxe4', 'Bc4+,Kh8,Qf7', 'https://lichess.org/training/b5wmh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b5WUU', 'Rapid', 'Susupi', 1700, 'Adiga11', 1727, 'e4,e5,Nf3,Nc6,Bc4,Nd4,Nxe5,Qg5,Bxf7+,Kd8,O-O,Qxe5,d3,d6,f4,Qf6,Bxg8,Rxg8,f5,Bd7,Qh5,Nxc2', 'Bg5,Be7,Bxf6', 'https://lichess.org/training/b5WUU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b5ymc', 'Rapid', 'panda29', 1653, 'emreygtt', 1626, 'd4,e5,dxe5,d6,exd6,Bxd6,e3,Nf6,Bc4,Nbd7,Nc3,Nc5,b4,Nce4,Nxe4,Nxe4,Qf3,Bxb4+,c3,Bxc3+,Ke2,Nf6,Rb1,Bg4,Ba3,Bxf3+,Nxf3,c5,Bxc5,Rc8,Bb5+,Nd7,Ba3,f6,Rhd1,Rc7,Bd6,Kf7', 'Bxc7,Qxc7,Rxd7+,Qxd7,Bxd7', 'https://lichess.org/training/b5ymc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B5Z62', 'Blitz', 'Sebi0309', 1572, 'Pionek_59', 1596, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Nc6,c4,Nf6,Nc3,Bg7,Be2,d6,Bg5,O-O,O-O,Qb6,Nb3,h6,Be3,Qc7,c5,a6,cxd6,exd6,Bf3,Ne5,Nd4,Nfg4,Bxg4,Bxg4,f3,Bd7,Rc1,Nc4,Bf2,Qd8,Qb3,Nd2,Qc2,Nxf1,Kxf1,Rc8,Qd2,b5,Nd5,Rxc1+,Qxc1,Bxd4', 'Bxd4,Kh7,Nf6+,Qxf6,Bxf6', 'https://lichess.org/training/B5Z62');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B62AR', 'Rapid', 'jackmanu13', 1880, 'ImrozKhan', 1917, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nge7,d4,exd4,Bxc6,Nxc6,c3,dxc3,Nxc3,O-O,Bg5,f6,Qd5+,Kh8,Qxc5,fxg5,Nxg5,d6,Qe3,Ne5,Nd5,c6,f4,Ng4,Qd4,cxd5,exd5,h6,Ne6,Bxe6,dxe6,Re8,Rad1,Rxe6,f5,Ne3,fxe6,Nxf1,Kxf1,Qe7,Qxd6,Rf8+,Kg1,Qf6,e7', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/B62AR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B68HO', 'Classical', 'Reddit283649', 1670, 'zamogholi', 1669, 'd4,d5,Bf4,Nc6,e3,Nf6,Nf3,Bg4,Be2,Bf5,Nc3,Nb4,Rc1,h6,a3,Nc6,Bd3,Be4,Nxe4', 'dxe4,Bxe4,Nxe4', 'https://lichess.org/training/B68HO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b6AiB', 'Rapid', 'bynsrcool106', 1690, 'sattar57', 1761, 'Nf3,e6,e4,d6,Be2,a6,O-O,Be7,c4,Nc6,Nc3,b6,d4,Bb7,d5,exd5,cxd5,Ne5,Bf4,Nxf3+,Bxf3,Bf6,Re1,Ne7,e5,dxe5,Bxe5,Bxe5,Rxe5,O-O,Qe2,Ng6,Re3,Nf4,Qc4,Ng6,Rae1,Qd6,Bh5,b5,Qe4,c6,Bxg6,fxg6,Qe6+,Qxe6,dxe6,Rfe8,Rd1,Re7,Rd7,Rae8,Ne4,Rxe6,Rxb7,Rxe4,Rxe4,Rxe4,f3,Re6,b3,c5,Kf1,Kf8,Kf2,Re7,Rb6,Ra7,Rc6,Rd7,Ke3,Re7+,Kf4,Re2,Rxa6,Rxg2,h4,Rh2,Kg3,Rc2,Kf4,Rh2,Ke5,Rxh4', 'Ke6,Rd4,Ra8+,Rd8,Rxd8#', 'https://lichess.org/training/b6AiB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B6BoF', 'Classical', 'Vasilaryuk12', 1959, 'engevik', 1852, 'd4,Nf6,c4,e6,Nc3,c5,d5,d6,Bg5,Be7,dxe6,Bxe6,e3,O-O,Qc2,Nc6,a3,Ne5,b3,d5,cxd5,Nxd5,Bxe7,Qxe7,Rc1,Rac8,Be2,Rfd8,Nf3,Ng4,Nxd5,Bxd5,O-O,Nxe3,fxe3,Qxe3+,Kh1,Bxb3,Qb2,c4,Bd1,Bxd1,Rfxd1,Rxd1+,Rxd1,c3,Qc2,b5,h3,a5,Rd3', 'Qxd3,Qxd3,c2', 'https://lichess.org/training/B6BoF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b6G73', 'Rapid', 'beni175', 1648, 'Igor-Nikandrof', 1818, 'd4,d6,c4,f6,e3,e5,Nf3,Nc6,g3,Bg4,Bg2,Qd7,O-O,Bh3,Qc2,Bxg2,Kxg2,O-O-O,Bd2,g5,b4,Nce7,b5,h5,a4,h4,a5,hxg3,fxg3,Qh3+,Kf2,g4,Ng1,Qxh2+,Ke1,Qxg3+,Kd1,Qg2,Re1,Rh1,Bb4,Qxc2+,Kxc2,f5,Nc3,Nh6,a6,b6,c5,dxc5,dxc5,Nd5,Nxd5,Rxd5,Red1,Rh2+,Kc3,Rxd1,Rxd1,bxc5,Ba3,Rh3', 'Nxh3,gxh3,Rh1', 'https://lichess.org/training/b6G73');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B6iew', 'Classical', 'jazkonrad', 1618, 'Ferdikalem2', 1614, 'e4,e5,f4,d6,Bc4,Nf6,d3,h6,h3,g6,Nf3,Bg7,O-O,O-O,f5,c6,fxg6,Kh8,Bxf7,d5,Bd2,dxe4,dxe4,Nxe4,Qc1,Nxd2,Nbxd2,Bf5,Nh4,Qd4+,Kh2,Qxh4,Rxf5,Nd7,g3,Qd4,Nf3,Qf2+,Kh1,Qxg3,Qe1', 'Qxh3+,Nh2,Qxf5', 'https://lichess.org/training/B6iew');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b6IiQ', 'Rapid', 'volk82', 1862, 'FTJ', 1865, 'e4,e5,f4,d5,exd5,e4,Nc3,Nf6,d3,Bb4,a3,Bxc3+,bxc3,Qxd5,Be3,Nc6,Ne2,Bg4,h3,Bxe2,Bxe2,exd3,cxd3,Qxg2,Bf3,Qg3+,Kd2,g6,Qe2,O-O,Rag1,Qh4,Rg4,Qh5,Rg5,Qh6,f5,Qg7,h4,Rad8,h5,Ne5,Be4,Nxe4+,Kc2,Nxg5,Bxg5,Rxd3,f6,Qh8,Qxe5,Rd6,Qe7,h6', 'hxg6,fxg6,Rxh6,Qxh6,Bxh6', 'https://lichess.org/training/b6IiQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B6iNa', 'Rapid', 'AlwaysDizzy', 1882, 'mory06', 1952, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Be7,c3,Nf6,Re1,O-O,d4,Bg4,h3,Bxf3,Qxf3,exd4,Bxc6,bxc6,cxd4,Rb8,b3,a6,Bb2,Ne8,d5,cxd5,exd5,Bf6,Bxf6,Nxf6,Nd2,Nd7,Rac1,Ne5,Qc3,Rb7,f4,Ng6,Qc6,Qb8,f5,Ne5,Qxa6,Ra7,Qf1,Rxa2,Nc4,f6,Nxe5,fxe5,Rc3,Qb4,Rxc7', 'Qb6+,Kh2,Qxc7', 'https://lichess.org/training/B6iNa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B6k1d', 'Rapid', 'Flutedog', 1813, 'Old-School-Ways', 1837, 'e4,d5,exd5,Qxd5,Nf3,Qe6+,Be2,Qg6,O-O,Nc6,d4,Bf5,c3,O-O-O,Nbd2,e6,Nc4,Be7,Nce5,Nxe5,Nxe5,Qf6,Bf4,Bd6,Qd2,Bxe5,Bxe5,Qg6,Bf3,f6,Bg3,e5,d5,e4,Be2,Ne7,c4,Rhe8,Qa5,Rd7,Qxa7,Kd8,Qa8+,Nc8,Qxb7,e3,f3,Bd3,Rfe1,Bxe2,Rxe2,Qd3,Rae1,Qxc4,b3,Qc5,b4,Qb6,Qxb6,Nxb6,Rxe3,Rxe3,Rxe3,Nxd5,Rb3,Nb6,a3,Rd1+,Kf2,Rd2+,Kf1,Kc8,h3,Kb7,Rc3,Nd5,Rc5,Ne3+,Kg1', 'Rxg2+,Kh1,Rxg3', 'https://lichess.org/training/B6k1d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B6lmr', 'Classical', 'duduwawa', 1950, 'gomer1377', 1955, 'd4,Nf6,c4,d5,cxd5,Qxd5,Nc3,Qf5,Nf3,Ne4,Nxe4,Qxe4,e3,Bf5,Qb3,h6,Ne5,e6,Bd3,Qxg2,Rf1,Bxd3,Nxd3,Bd6,Bd2,Qf3,Ne5,Bxe5,Qb5+,Qc6,Qxe5,f6,Qh5+,Kf8,Rg1,Na6,Rc1,Qd7,Qf3,Qd5,Qg3,g5,b3,Ke7,Rxc7+,Nxc7,Qxc7+,Qd7,Bb4+,Ke8,Qc2,Kf7,Qe4,Rac8,Qg4,Rc1+,Kd2,Rxg1,Qxg1,Qc6,Bc3,Rc8,Qa1,Qg2,Ke2,Qxh2,Qb1,Kg7,d5,exd5,Bd4,b6,Qf5,Qc7,Bxf6+,Kg8,Qg6+,Kf8,Qxh6+,Ke8,Bxg5,Qc2+,Kf1,Qf5,Qh5+,Kd7,f4,Rc2,e4,dxe4', 'Qd1+,Kc7,Qxc2+', 'https://lichess.org/training/B6lmr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B6m1S', 'Rapid', 'dtkaban', 1834, 'Nose_the_cossack', 1792, 'd4,d5,Bf4,Nf6,Nc3,c6,e3,g6,h3,Bg7,g4,Nbd7,f3,Qa5,Bd3,c5,g5,Nh5,Qd2,Nxf4,exf4,cxd4,Nce2,Qxd2+,Kxd2,e5,fxe5,Bxe5,f4,Bg7,Nf3,O-O,Nexd4,Nc5,Ne5,Ne4+,Bxe4,dxe4,c3,Rd8,Ke3,Bf5,Nxf5,gxf5,Rad1,Bxe5,fxe5,Re8,Kf4,Rad8,Kxf5,e3,Rd4,Kg7,Re1,h6,h4,Rc8,Rxe3,hxg5,hxg5,Re7,c4,Rce8,b3,b6,a4,a6,b4,Kh7,Rd6,Rb7,Kf6,b5,c5,bxa4,c6,Rxb4,Rd7', 'Rf4#', 'https://lichess.org/training/B6m1S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B6M72', 'Rapid', 'Mirkozy', 1910, 'vobarno6', 1891, 'e4,e5,Nf3,d5,exd5,e4,Ng1,Qxd5,Nc3,Qe5,Bc4,Be6,Bxe6,fxe6,Qe2,Nf6,d3,Bb4,Bd2,Nc6,Nf3', 'exf3,Qxe5,Nxe5', 'https://lichess.org/training/B6M72');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b6mD8', 'Rapid', 'jjs2', 1724, 'pstroh', 1820, 'e4,e6,d4,Ne7,Nc3,d6,Nf3,Nd7,Bb5,a6,Bxd7+,Bxd7,e5,Nf5,Bg5,Be7,Bxe7,Qxe7,exd6,cxd6,O-O,Bc6,Re1,Qf6,d5,Bd7,Ne4,Qe7,dxe6,fxe6,Neg5,e5,c3,h6,Ne4,Bc6,Ng3,O-O,Nxf5,Rxf5,Qb3+,Kh8,Rad1,Bxf3,gxf3,Rxf3,Qb4,Qg5+,Kf1,Raf8,Re2,Qh5,Ke1,Qxh2,Qxd6,Rxf2', 'Qxf8+,Rxf8,Rxh2', 'https://lichess.org/training/b6mD8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B6NK5', 'Blitz', 'jlvela', 1872, 'Ahmed_Hussein99', 1829, 'e3,c5,d4,d6,dxc5,Nc6,cxd6,Qxd6,Qxd6,exd6,Bb5,Bd7,Nf3,a6,Bxc6,Bxc6,a3,Nf6,Nbd2,Be7,O-O,O-O,b4,Ne4,Bb2,Nxd2,Nxd2,Rac8,Bd4,Ba4,c3,Bg5,Nf3,Be7,g3,Bb5,Rfc1,d5,Ne5,f6,Nf3,Rc7,Nd2,Rfc8,Nb3,a5,Nxa5,b6,Nb3,Bc4,Nd2,Bd6,a4,Be5,Bxe5,fxe5,a5,bxa5,Rxa5,Bd3,Rxd5,Rxc3,Rxc3,Rxc3,Rxe5,Rc1+,Kg2,Rc2,Ne4,Rc4,b5,Bxe4+,f3,Rc2+,Kh3,Bxf3,g4,Rb2,Kg3,Be2,h4,Bxb5,Re8+,Kf7,Rb8,Rb4,g5,Rb3,h5,Rxe3+,Kf4,Rc3,Ke5,Bd3,Rb7+,Ke8,g6,Rc5+,Ke6,hxg6', 'Rb8+,Rc8,Rxc8#', 'https://lichess.org/training/B6NK5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b6nKa', 'Rapid', 'Shardul10', 1808, 'Lovechess1804', 1798, 'e4,e5,Bc4,Nf6,Nc3,Bc5,Nf3,Nc6,d3,h6,O-O,O-O,h3,d6,Be3,Bxe3,fxe3,Na5,Bb3,Be6,Bxe6,fxe6,d4,exd4,exd4,d5,e5,Ne4,Nxe4,dxe4,Nh2,Nc4,Qg4,Qxd4+,Kh1,Qxe5,Rxf8+,Rxf8,Re1,Nd6,c3,Rf4,Qg6,Rf2,Ng4,Qf5', 'Nxh6+,Kf8,Nxf5', 'https://lichess.org/training/b6nKa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b6O4v', 'Blitz', 'Goroshkov_Maksym', 2209, 'IM Aronian1111', 2312, 'b3,d6,Bb2,Nd7,e3,Ngf6,Nf3,g6,d4,Bg7,c4,O-O,Nc3,e5,dxe5,dxe5,Be2,e4,Nd2,c6,O-O,Re8,Qc2,Qe7,a4,a5,Ba3,Nc5,Bxc5,Qxc5,Ndxe4,Nxe4,Nxe4,Qf5,Bd3,Bxa1,Rxa1,Qe5,Rd1,Bf5,Ng3,Bxd3,Qxd3,Qe7,Qe2,Rad8,h3,f5,Rxd8,Rxd8,Qf3,Rd3,Qf4,Rxb3,Qb8+,Kg7,Ne2,Rd3,Nf4,Rd1+,Kh2,g5,Nh5+,Kh6,Ng3,Qf6,Qc8,f4,Nf5+,Kg6,e4,Rd8,Qxb7,f3,g3,Rd2,Ne7+,Kh6', 'Ng8+,Kg6,Nxf6', 'https://lichess.org/training/b6O4v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b6Oub', 'Rapid', 'Baloo_the_bear', 1757, 'Zachary_Mac', 1785, 'd4,Nf6,c4,e6,Nf3,d5,e3,c5,Be2,cxd4,Qxd4,Nc6,Qd1,dxc4,Qxd8+,Nxd8,Bxc4,Nc6,O-O,Bb4,a3,Ba5,b4,Bb6,Nc3,a6,Rd1,O-O,Bb2,Bd8,Rd2,b5,Bf1,Bb7,Rad1,Bc7,Ne2,Rfd8,Bxf6,gxf6,Ned4,Nxd4,Nxd4,e5,Nf5,Rxd2,Rxd2,Rd8,Rc2,Bb6,Be2', 'Be4,Ne7+,Kf8', 'https://lichess.org/training/b6Oub');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b6P0R', 'Rapid', 'Febryfugin', 1661, 'jeddeh', 1610, 'e4,e5,Bc4,Bc5,Nf3,d6,d3,Nc6,Nc3,Bg4,h3,Bh5,a3,a6,Bd2,Ba7,Bd5,Nf6,Bxc6+,bxc6,g4,Bg6,g5,Nd7,h4,f6,h5,Bf7,g6,hxg6,Qe2,Rxh5,O-O-O,g5,Nxe5,Nxe5,Rxh5,Bxh5,Qxh5+,Kd7,Rh1,Bxf2,Qh7,Qe7', 'Qf5+,Qe6,Qxf2', 'https://lichess.org/training/b6P0R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B6q5X', 'Rapid', 'brefe3', 1915, 'CLow', 1897, 'd4,d5,Bf4,Nf6,Nf3,e6,Nbd2,c5,e3,Nc6,Bb5,a6,Bxc6+,bxc6,Ne5,Bb7,c3,Nd7,Ndf3,Nxe5,Nxe5,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/B6q5X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B6QdR', 'Blitz', 'KARAM120', 1807, 'Yousofjo', 1809, 'e4,d5,exd5,Nf6,Nf3,Nxd5,d4,Bg4,h3,Bh5,Be2,e6,Ne5,Bxe2,Qxe2,Nc6,Nxc6,bxc6,c4,Nb6,Be3,Bb4+,Nd2,Bxd2+,Kxd2,O-O,Rac1,Rb8,c5,Nd5,b3,f5,g3,Qf6,Rhe1,f4,gxf4,Nxf4,Qc4,Nxh3,Kc3,Nxf2,Bxf2,Qxf2,Qxe6+,Kh8,Qxc6,Qg3+,Kb2,Rf2+,Ka1', 'Rxa2+,Kxa2,Qxb3+,Ka1,Qb2#', 'https://lichess.org/training/B6QdR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b6toL', 'Rapid', 'lonejackBR', 1696, 'Ungulate', 1661, 'e4,d5,exd5,Qxd5,Nf3,Nf6,d3,Bg4,Nc3,Bxf3,gxf3,Qa5,Bd2,c6,Ne4,Qc7,Qe2,e6,Nxf6+,gxf6,f4,Nd7,f5,O-O-O,O-O-O,Nb6,fxe6,fxe6,Qxe6+,Nd7,Bh3,Kb8,Qe4,Bc5,Bf4,Ne5,d4,Qa5,dxe5,Qxa2,exf6+,Ka8,Rxd8+,Rxd8,c3,Bxf2,Rd1', 'Qa1+,Qb1,Rxd1+,Kxd1,Qxb1+', 'https://lichess.org/training/b6toL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b6TY8', 'Rapid', 'MrTargaryen', 1898, 'CactusMan1', 1708, 'e4,e6,d4,d5,Bd3,Nf6,e5,Nfd7,c3,c5,Qg4,Nc6,Nf3,Be7,O-O,O-O,Bh6,g6,Bxf8,Qxf8,h4,Qh6,Ng5,Nb6,Nd2,cxd4,cxd4,f5,exf6,Bxf6,Qf4,Bxd4,Qf7+,Kh8,Qe8+,Kg7,Qf7+,Kh8,Nxe6', 'Bxe6,Qxe6,Qxd2', 'https://lichess.org/training/b6TY8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b6vRT', 'Rapid', 'Cuxhaven', 2036, 'janosa', 2044, 'e4,e6,d4,d5,exd5,exd5,Nf3,h6,Bd3,Nf6,O-O,Be7,Re1,O-O,Bf4,c5,dxc5,Bxc5,Nbd2,Nc6,c3,Ng4,Bg3,Qb6,Re2,Qxb2,Nb3,Qa3,Bf4,Bb6,Qd2,Be6,h3,Nxf2,Rxf2,Bxf2+,Kxf2,Qe7,Re1,Qf6,Nbd4,Nxd4,cxd4,Rac8,Be5,Qd8,Bc2,Qb6,Qd3,g6,Nh4,Qc6,Re2,Qc3,Nxg6,Qxd3', 'Ne7+,Kh7,Bxd3+', 'https://lichess.org/training/b6vRT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B6Xw6', 'Rapid', 'biv64', 1615, 'berry_berserker', 1600, 'e4,Nf6,Nc3,d5,e5,Nfd7,d4,e6,Bb5,c5,Bxd7+,Bxd7,Nf3,Nc6,Bg5,Qb6,b3,cxd4,Na4,Qa5+,Bd2,Bb4,O-O,Bxd2,Qxd2,Qxd2,Nxd2,Nb4,c3,dxc3,Nxc3,Rc8,Ne2,O-O,a3,Nc6,Nf3,f6,exf6,gxf6,Rfc1,e5,h3,d4,Rc5,Be6,b4,b6,Rcc1,Ne7,Rxc8,Rxc8,Rc1,Nf5,Rxc8+,Bxc8,g4,d3,Nc3,Nd4,Nxd4,exd4,Ne4,Kg7,Kf1,Bb7,f3,Kg6,Ke1,f5', 'gxf5+,Kxf5,Nd6+,Kf4,Nxb7', 'https://lichess.org/training/B6Xw6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b6zXH', 'Rapid', 'Rezaalialireza', 1806, 'vkotnoor', 1706, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Nc3,Bb4,Bc4,O-O,Bg5,Re8,Qf3,Rxe4+', 'Qxe4,Nxe4,Bxd8', 'https://lichess.org/training/b6zXH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B72zD', 'Rapid', 'Markys1', 1788, 'almaarif', 1941, 'd4,d5,e3,Bf5,c4,c6,Nc3,e6,Nf3,Nf6,Be2,Nbd7,O-O,Bd6,a3,O-O,c5,Bc7,b4,b5,Bb2,a5,Nd2,a4,f3,Bg6,e4,dxe4,Ncxe4,Nd5,Nd6,Bxd6,cxd6,N7f6,Ne4,Nxe4,fxe4,Bxe4,Bf3,Bxf3,Qxf3,Qxd6,Rac1,Rac8,Rc5,Rc7,Bc1,Rfc8,Qg4,f5,Qe2,f4,Re1,Re8,Qg4,h6,g3,fxg3,hxg3,Nf6,Qf4,Qd7,Ree5,Rf8,g4,g5,Rxg5+,hxg5,Rxg5+,Kf7,Bb2,Ke7,d5,cxd5', 'Rg7+,Ke8,Rxd7', 'https://lichess.org/training/B72zD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B75aW', 'Blitz', 'Frankenste1n', 1644, 'asafyan', 1625, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,d6,Re1,Na5,d4,exd4,Nxd4,Nxb3,axb3,c5,Nf5,Bxf5,exf5+,Be7,Qe2,Ra7,Bg5,O-O,c4,b4,Nd2,Qd7,Bxf6,Bxf6,Ne4,Be5,f6,Bxf6,Nxf6+,gxf6,Qh5,f5,Re3,f4,Qg5+,Kh8,Qxf4,f5,Rae1,Qg7,Rg3,Qxb2,Qg5,Qf6', 'Qxf6+,Rxf6,Re8+,Rf8,Rxf8#', 'https://lichess.org/training/B75aW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B7bTS', 'Classical', 'gaboaax', 2496, 'aandreyev', 2188, 'd4,Nf6,Nf3,g6,e3,Bg7,b3,d5,Bb2,O-O,c4,c6,Bd3,Nbd7,O-O,Re8,Nbd2,c5,Qc2,b6,Ne5,Nxe5,dxe5,Ng4,Nf3,Bb7,h3,dxc4,Be4,cxb3,axb3,Bxe4,Qxe4,Nh6,Rfd1,Qc7,Ra6,e6,Rda1,Red8,Qa4,Rd7,Qb5,Qd8,Qxb6', 'Rd1+,Rxd1,Qxd1+', 'https://lichess.org/training/B7bTS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B7bY5', 'Bullet', 'ANNAPOORANI', 1582, 'SahilTiwari', 1552, 'e4,d5,exd5,Qxd5,Nf3,Qd8,Be2,Nc6,d4,Nf6,c4,e6,Bg5,h6,Bxf6,gxf6,O-O,Bd6,c5,Be7,Nc3,Rg8,Qd2,e5,d5,Nb4,Rfd1,f5,d6,cxd6,cxd6,Bf6,Nb5,f4,Nc7+,Kf8,Qxb4,Bh3,Bf1,Bh4,Nxe5,Rxg2+,Bxg2,Bxg2,Kxg2,Qg5+,Kf1,Qxe5,Nxa8,f3,d7+,Kg7,d8=Q', 'Qe2+,Kg1,Qxf2+,Kh1,Qg2#', 'https://lichess.org/training/B7bY5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B7Hr0', 'Rapid', 'Itsalladream', 1787, 'yorhus', 1795, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,Qc7,Ndb5,Qb8,g3,a6,Bf4,e5,Nd5,axb5,Be3,Qd6,Bb6,Nf6', 'Nc7+,Qxc7,Bxc7', 'https://lichess.org/training/B7Hr0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B7I8M', 'Blitz', 'puzzledpuzzler', 2203, 'dauren80', 2187, 'e4,c6,d4,d5,e5,Bf5,h4,h6,Bd3,Bxd3,Qxd3,e6,Nf3,c5,c4,dxc4,Qxc4,Nd7,Nc3,a6,a4,Rc8,d5,Nb6,Qg4,Nxd5,Nxd5,Qxd5,O-O,Ne7,Be3,Nf5,Rfd1,Qc6,Rac1,Be7,b4,c4,Nd4,Nxd4,Qxg7,Ne2+,Kh1,Rf8,Rc2,Rd8,Rxd8+,Kxd8,Rxe2,Qxa4,Rd2+,Kc8,Bb6,Qxb4', 'Qxf8+,Bxf8,Rd8#', 'https://lichess.org/training/B7I8M');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b7iIU', 'Rapid', 'ShreddedDown', 1575, 'spastik17', 1552, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,Nd4,Nxd4,exd4,Ne2,Bc5,d3,a6,Ba4,b5,Bb3,O-O,O-O,h6,h3,Bb7,Ng3,d5,exd5,Bxd5,Bxd5,Qxd5,Re1,Bd6,b3,g6,Bb2,Bb4,Re2,Rae8,Rc1,h5,c4,dxc3,Bxc3,Bxc3,Rxc3,h4,Nf1,Rxe2,Qxe2,Re8,Ne3,Qd4,Rxc7,Qa1+,Qd1', 'Qxd1+,Nxd1,Re1+,Kh2,Rxd1', 'https://lichess.org/training/b7iIU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B7Kqn', 'Blitz', 'KNBvsK', 1770, 'bvz0509', 1639, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,Bxc3+,bxc3,d6,e5,dxe5,Ba3,e4,Ng5,Be6,Nxe6,fxe6,Bxe6,Ne7,Qb3,Ned5,O-O,b6,Rfe1,c6,Rad1,Nc7,Bf7+,Kd7,d5,c5,Be6+,Kd6,c4,Rf8,Qg3+,Ke7,d6+,Kxe6,dxc7,Qe7,Bb2,Kf7,Bxf6,gxf6,Qd6,Rfc8,Qd5+,Kf8,Rxe4,Qxc7,Rde1,Re8,Qh5,Rxe4,Rxe4,Qd7,Qh6+,Kg8,g3,Qd1+,Kg2,Rf8,Re7,Rf7,Rxf7,Kxf7,Qxh7+,Ke6,Qxa7,Qd6,h4,Qc6+,f3,b5,cxb5,Qxb5,a4,Qe2+,Kh3,Qxf3,Qb6+,Kf7,Qc7+,Kg6,Qxc5,Qf1+,Kg4', 'f5+,Qxf5+,Qxf5#', 'https://lichess.org/training/B7Kqn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B7MdC', 'Rapid', 'TheWanderingKnight72', 2062, 'KlWl', 1937, 'd4,e6,e4,c5,d5,exd5,exd5,d6,c4,Be7,Nf3,Bf6,h3,Ne7,Bd3,Bf5,Bxf5,Nxf5,Qd3,g6,g4,Qe7+,Kd1,Nd4,Re1,Be5,Nxd4,cxd4,f4,Nd7,fxe5,dxe5,Bh6,Nc5,Qa3,f6,Nd2,b6,b4,Nd7,Ne4,g5,Rc1,Rg8,c5,Rg6,Nd6+,Kd8,Nf5,Qf7,c6,Qxd5,cxd7,Kxd7,Qa4+,b5,Qc2,Qf3+,Re2,d3,Qc7+,Ke6,Qd6+,Kf7,Rc7+,Kg8,Qe6+,Kh8,Rc8+,Rxc8', 'Qxc8+,Rg8,Bg7#', 'https://lichess.org/training/B7MdC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B7nwb', 'Blitz', 'mikas4', 1635, 'sulthanfajar', 1634, 'e4,e5,f4,exf4,Nf3,Be7,Bc4,Bh4+,Kf1,d5,exd5,Bg4,d4,Nf6,Bxf4,Nxd5,Nc3,Nxf4,Bxf7+,Kxf7,Ne5+,Kg8,Qxg4,Ng6', 'Qe6+,Kf8,Qf7#', 'https://lichess.org/training/B7nwb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b7pdE', 'Classical', 'dinkdonkers', 1718, 'knappe04', 1882, 'e4,c5,Nc3,e6,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,a3,d5,exd5,Nxd5,Nxc6,bxc6,Ne4,Bb7,c4,Qh4,Qf3,f5,Ng5,Nc7,g3,Qd4,Qe3,Rd8,Qxd4,Rxd4,Be3,Rd8,c5,h6,Nf3,g5,b4,Bg7,Rd1,Bc3+,Bd2,Bf6,Bc1,O-O,Bc4,Rxd1+,Kxd1,Rd8+,Kc2,Kf7,h4,g4,Nd2,Nb5,Re1,Nd4+,Kb1,h5,Nb3,Bc8,Nxd4,Rxd4,Bb3,Ke7,Bb2,Rd8,Bxf6+,Kxf6,Kc2,e5,Bc4,Rd4,Kc3,Be6,Bxe6,Kxe6,Re2,Rd1,Kc2,Ra1,Kb2,Rd1,Kc2,Rd5,Rd2,a6,Kc3,a5,Rxd5,axb4+,Kxb4,Kxd5,a4,f4,a5,fxg3,fxg3,e4,Kc3', 'Kxc5,a6,Kb6', 'https://lichess.org/training/b7pdE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b7q6r', 'Rapid', 'costi1991', 1908, 'Alexandr_888', 1905, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,Nf6,Bg5,Qa5+,Bd2,Qe5,f3,Qxb2,Nc3,Qb6,Bd3,e6,Nge2,a6,Rb1,Qc7,O-O,Bd6,g3,b5,f4,Bb7,e5,Bc5+,Kg2,Nxe5+,Kh3,Nxd3,cxd3,d5,Rc1,Qd7,d4,e5+,Kg2,exd4,Na4,Ba7,Ba5,d3,Rc7,dxe2,Qxe2+,Qe6,Qxe6+,fxe6,Rxb7,bxa4,Re1,Ne4,Kf3,O-O,Rc1,Ng5+,Kg2,Nf7,Rcc7,Bd4,Bb4,Nd8,Bxf8,Nxb7,Rxb7,Rxf8,Rb4,e5,Rxa4,Ra8,Ra5,exf4,gxf4,Rf8,Kf3,g5,Rxd5,gxf4,Rxd4,Kg7,Ra4,Rf6,h4,h5,a3,Kg6,Ra5,Kf7,a4,Ke7,Rxh5,Kf7,Re5,Kg6,h5+,Kh6,a5,Kg7,Rg5+,Kh6,Re5,Kh7,Kg4,Kh6,Rf5', 'Rxf5,Kxf5,f3,Ke4,f2', 'https://lichess.org/training/b7q6r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b7QR2', 'Rapid', 'Meloch1', 1654, 'Grosvenor', 1777, 'e4,e5,f4,exf4,Nf3,Be7,h4,c6,d4,Qc7,Bc4,b5,Bb3,d6,O-O,Bg4,Bxf4,Bxh4,Nbd2,Nd7,Bxf7+,Kxf7,Ng5+,Bxg5,Bxg5+,Ngf6,Qxg4,Rhf8,Qh5+,Kg8,Qh4,d5,e5,Ne4,Nxe4,dxe4,Qxe4,c5,Be7,Rfe8,Bd6', 'Qxd6,exd6,Rxe4', 'https://lichess.org/training/b7QR2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b7R5R', 'Rapid', 'KapuDaMuthu', 1669, 'javrey', 1666, 'e4,d6,d4,c6,Nf3,Nf6,Nc3,h6,Qe2,g5,Be3,g4,Nh4,Qb6,b3,Na6,h3,Nb4,f3,a5,hxg4,a4,bxa4,Na6,d5', 'Qb2,Rd1,Qxc3+', 'https://lichess.org/training/b7R5R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b7sqk', 'Blitz', 'IM ExploringChess', 2482, 'Markiz02', 2472, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Qf3,c6,Bd3,Nd7,Be4,Qc5,Ne2,Ne5,Qc3,Qxc3,Nxc3,Be6,d4,Nc4,d5,cxd5,Nxd5,O-O-O,Nf4,Bd7,b3,Nd6,Bf3,e5,Nd5,Bc6,c4,e4,Be2,Bxd5,cxd5,Nf5,O-O,Rxd5,Bg4,g6,Bb2,Rg8,Rac1+,Kb8,Rc4,Bg7,Bxg7,Nxg7,Rfc1,f5,Be2,Ne6,R4c2,Rgd8,g3,Nd4,Rb2,Nxe2+,Rxe2,Rd1+,Rxd1,Rxd1+,Kg2,Kc7,f3,Rd4,fxe4,fxe4,Kf2,Kd6,Ke3,Ke5,Rc2,Rd3+,Ke2,Rd7,Rc5+,Kd4,Rc1,Rf7,Rc4+,Kd5,Rc8,b6,Rd8+,Ke5,Re8+,Kd4,Rc8,e3,Rc4+,Kd5,Kxe3,Re7+,Kd2,Rf7,Ke2,b5,Rc8,Kd4,a4,bxa4,bxa4,Rb7,Kf3,Rb4,Rc7,Rxa4,Rxh7,a5', 'Rh4+,Kc5,Rxa4', 'https://lichess.org/training/b7sqk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B7XVj', 'Blitz', 'Eastern_European', 1811, 'hhn5555', 1822, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,b5,Bb3,d6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Bg5,Be7,O-O,O-O,Nc3,Bb7,Rae1,Rb8,e5,dxe5,Qxe5,Bd6,Qf5,b4,Ne4,Bxe4,Rxe4,Re8,Rg4,Be7,Bh6,Nxg4', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/B7XVj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b7YDL', 'Blitz', 'araldavuteserli', 1739, 'ALKILAM', 1782, 'c4,e6,Nc3,Bb4,Nf3,Bxc3,dxc3,Ne7,g3,Ng6,Bg2,d6,O-O,e5,Bg5,f6,Be3,Bg4,Qd5,c6,Qd2,O-O,Rad1,Rf7,h3,Be6,b3,d5,cxd5,cxd5,c4,d4,Nh4,Nc6,Nxg6,dxe3,Qc2,exf2+,Kxf2,Qb6+,e3,hxg6,Qxg6,Rd8,Bf3,Qa5,Rxd8+,Nxd8,Rd1,Qxa2+,Be2,Rf8,h4,Qxb3,h5,Bxc4,Rd2,Bxe2,h6,Ne6,Rd7,Bb5', 'Rxg7+,Nxg7,Qxg7#', 'https://lichess.org/training/b7YDL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B7Ylb', 'Blitz', 'Aleksei_34', 1802, 'Buldogger', 1761, 'Nf3,c5,g3,Nc6,Bg2,d5,O-O,Nf6,c3,e5,d4,e4,Ng5,h6,Nh3,b5,f3,Be7,fxe4,dxe4,e3,O-O,Bd2,Re8,Na3,a6,Nc2,Bg4,Qe1,Qd7,Nf2,Bf5,h3,Rad8,g4,Bg6,Qe2,cxd4,Nxd4,Bc5,Nxc6,Qxc6,Rad1,a5,a3,b4,axb4,axb4,cxb4,Bb6,Bc3,Nh7,Rxd8,Rxd8,Nxe4,Bxe4,Qf2,Bxg2', 'Qxf7+,Kh8,Qxg7#', 'https://lichess.org/training/B7Ylb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b7yp0', 'Classical', 'miguelmg', 1623, 'Paoloman', 1690, 'e4,e5,Bc4,Nf6,Nf3,Bd6,d3,h6,Nc3,O-O,Nd5,Nxd5,Bxd5,c6,Bb3,b5,a3,Bc7,c3,d6,Be3,Qf6,h3,Nd7,d4,c5,Qd2,Rd8,d5,c4,Bc2,Nc5,O-O,Qg6,Kh1,Bb6,Nh2,Nxe4,Bxe4,Qxe4,Bxb6,axb6,Rae1,Qf5,Re3,e4,Rfe1,Re8,Rg3,Qf6,f3,Bf5,fxe4,Rxe4,Rxe4,Bxe4,Qe3,Bxd5,Qxb6,Re8,Re3,Re4,Rxe4,Bxe4,Qxb5,Qf2', 'Qe8+,Kh7,Qxe4+', 'https://lichess.org/training/b7yp0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B85zc', 'Classical', 'PakAttack', 1704, 'timlem', 1622, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Ke6,Nc3,Nb4,Qe4,Bc5,a3,Kf6,axb4,Nxb4,Nd5+,Nxd5,Bxd5,Bf5,Qf3,c6,Be4,Qd7,O-O,h5,d3,g6,Qg3,Rae8,Qg5+,Kg7,Bf3,a6,b3,Qd8,Qd2,Bd4,Rb1,e4,dxe4,Bxe4,Bxe4,Rxe4,c3,Bc5,Qb2,Qd3,Bg5,Re2,Qa1,Rhe8,c4+,Kg8,Rbd1,Qc2,Rd7,Bxf2+,Rxf2', 'Re1+,Rf1,Rxa1', 'https://lichess.org/training/B85zc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B88eU', 'Blitz', 'Sniper20200', 2074, 'Najdork', 2075, 'e4,e5,Nc3,Nf6,f4,Bc5,fxe5,Ng8,d4,Bb4,Nf3,d5,exd5,Bxc3+,bxc3,Qxd5,Bf4,Ne7,Bd3,Qa5,Qd2,Bf5,Bc4,O-O,O-O,Nbc6,Nh4,Nxd4,Qxd4,Be6,Bxe6,fxe6,Bd2,Rad8,Rxf8+,Rxf8,Qb4,Qd5,Qxe7,Qxd2,Qxe6+,Kh8,Qe7', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/B88eU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b8AmX', 'Blitz', 'super_elihu', 1656, 'surfer7', 1693, 'e4,e5,Nf3,Nf6,Nc3,Bc5,Bc4,Ng4,O-O,Nc6,h3,Nf6,d3,Nd4,Bg5,Nxf3+,Qxf3,Be7,Nd5,d6,Nxe7,Qxe7,a4,Be6,Bb5+,c6,Bc4,d5,exd5,cxd5,Bb5+,Bd7,Bxf6,gxf6,Qxd5,O-O-O,Qc4+,Kb8,b4,Rc8,Qa2,Bc6,c3,e4,dxe4,Qxe4,f3,Qg6,Bxc6,Rxc6,Qd5,Rg8,Ra2,Rxc3,b5,Qg3,Qd7,Rgc8,Qg4,Qc7,Raa1,Rc2,a5,Qe5,Qb4,Qg3,Qg4', 'Rxg2+,Kh1,Qh2#', 'https://lichess.org/training/b8AmX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B8GWU', 'Rapid', 'siaowei', 1822, 'chess_sellsword', 1889, 'e4,c6,Nf3,d5,e5,Bg4,Be2,e6,d4,Be7,Nc3,Nd7,O-O,Nh6,Na4,Nf5,Bd2,Bh5,b4,Bg6,b5,h5,c4,c5,dxc5,Nxc5,Bb4,Rc8,b6,axb6,cxd5,exd5,Bb5+,Nd7,Bxe7,Nxe7,Ng5,O-O,e6,Nf6,f4,Ne4,Bd7,Nxg5,fxg5,Rc4,Rc1,Rxc1,Qxc1,fxe6,Rxf8+,Qxf8,Bxe6+,Kh8,Nxb6,d4,g4,h4,Qe1,d3,Qxh4+,Bh7,Nc4,Ng6,Qh3,Qc5+,Ne3,d2,Bb3,Nf4,Qf3,Qc1+,Kf2', 'Qe1#', 'https://lichess.org/training/B8GWU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b8H35', 'Rapid', 'AGR_MCB', 1832, 'bc0123', 1703, 'd4,Nf6,e3,e6,Bd3,d5,f4,Nbd7,Nf3,b6,c3,Bb7,Nbd2,Ne4,O-O,Bd6,Ne5,Nxe5,fxe5,Be7,Qg4,Nxd2,Bxd2,O-O,Rf3,c5,Rh3,g6,Rf1,cxd4,exd4,Kh8,Bh6,f5,exf6,Rxf6,Rxf6,Bxf6,Qxe6', 'Bc8,Qf7,Bxh3', 'https://lichess.org/training/b8H35');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B8kdZ', 'Rapid', 'shahjehan', 1908, 'Kami01', 1997, 'f4,d5,Nf3,c5,e3,g6,Be2,Bg7,O-O,Bg4,Nc3,Nc6,d4,cxd4,Nxd4,Bxe2,Ncxe2,Nf6,c3,Ne4,Qe1,O-O,Ng3,e5,Nxe4,exd4,Ng5,dxc3,bxc3,Re8,Rb1,Qc7,f5,h6,fxg6,hxg5', 'gxf7+,Qxf7,Rxf7', 'https://lichess.org/training/B8kdZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b8KNq', 'Rapid', 'ChessNorruck', 1842, 'ZelimirGR', 1831, 'e4,c5,d4,e6,Nf3,cxd4,c3,dxc3,Nxc3,Bb4,Bc4,Bxc3+,bxc3,Ne7,O-O,O-O,Ng5,Ng6,Qh5,h6,Nf3,Nc6,Bxh6,gxh6,Qxh6,Nce5', 'Ng5,Qxg5,Qxg5', 'https://lichess.org/training/b8KNq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b8L9b', 'Blitz', 'DaviatorGM', 2043, 'AlexChetverik', 2041, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Bc5,c3,O-O,d4,exd4,e5,Nd5,cxd4,Be7,Bb3,Nb6,d5,Na5,Nc3,Nxb3,Qxb3,d6,e6,fxe6,dxe6,d5,Re1,c6,Be3,Nc4,Bd4,c5,Be5,Nxe5,Rxe5,b5,Rxd5,Qc7,Re5,Rxf3,Nxb5,Qxe5,Qxf3,Rb8', 'Qf7+,Kh8,Qe8+,Bf8,Qxf8#', 'https://lichess.org/training/b8L9b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b8lfT', 'Rapid', 'ertuncvel', 1908, 'dondeepiccio', 2009, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Bc4,Bc5,O-O,O-O,Ng5,h6,Nxf7,Rxf7,Bxf7+,Kxf7,d3,d5,exd5,Nxd5,Qf3+,Nf6,Be3,Nd4,Bxd4,exd4,Ne4,Be7,Rfe1,Kg8,Ng3,c5,Re2,Bd6,Ne4,Nxe4,Qxe4,Bd7', 'Qd5+,Kh7,Qxd6', 'https://lichess.org/training/b8lfT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B8M92', 'Rapid', 'IIILORDIII', 1743, 'amritji', 1728, 'd4,c5,c3,d5,Bf4,e6,Nf3,Nc6,e3,Be7,Nbd2,Qb6,b3,h6,Ne5,Nxe5,dxe5,Bd7,c4,d4,exd4,cxd4,Bd3,Bb4,O-O,Ne7,Ne4,O-O,Qc2,Bc6,c5,Qc7,a3,Bxe4,Bxe4,Bc3,Rad1,Rad8,b4,a6,Rd3,Nd5,Bxh6,gxh6,Rh3,Qxe5,Bh7+,Kh8,Rxh6,Nf6,Qd3,Ng4', 'Bg8+,Kg7,Qh7#', 'https://lichess.org/training/B8M92');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b8mtG', 'Rapid', 'sssemenov', 1979, 'Nazar06m', 2069, 'e4,c5,Nf3,Nc6,Bb5,d6,O-O,e5,Re1,Be7,c3,Bd7,d4,Nf6,dxe5,dxe5,Bxc6,Bxc6,Nxe5,Qxd1,Rxd1,Bxe4,Bg5,O-O,Bxf6,Bxf6,Nd7,Rfd8,Nxf6+,gxf6,Nd2', 'Bc2,Rf1,Rxd2', 'https://lichess.org/training/b8mtG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B8NIO', 'Classical', 'Toni63', 1872, 'superposition', 1865, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,Nh4,Ngf6,Nxg6,hxg6,Bc4,e6,Bg5,Qb6,Bb3,O-O-O,Qe2,Qxd4,c3,Qb6,O-O-O,Be7,h3,Rhe8,Rd2,Nd5,Bxe7,Rxe7,Bxd5,cxd5,f3,Nc5,Rhd1,Red7,Rd4,a5,Qd2,Qd6,c4,Qxg3,Qxa5,Qc7,Qa8+,Qb8,Qa3,b6,b4,Ra7,Qb2,Nb7,R1d2,Qc7,Rc2,Qe5,cxd5+,Kb8,Qc3,exd5,f4,Qe6,Qc7+,Ka8,Rxd5,Qe8', 'Rxd8+,Qxd8,Qc8+,Qxc8,Rxc8#', 'https://lichess.org/training/B8NIO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b8qfe', 'Rapid', 'ReallyReallyGood', 1630, 'NiVeR', 2101, 'e4,e5,d4,exd4,Qxd4,Nc6,Qe3,b6,Bb5,Bb7,Bxc6,dxc6,Nc3,Nf6,Nf3,Bb4,Bd2,O-O,O-O-O,Qe7,a3,a5,axb4,axb4,Nb1,c5,c3,b3,c4,Nxe4,Bc3,Ra1,Nd2,Qd7,Nxe4,Bxe4,Qxe4,Qa4,Qd3,Re8,Qd8', 'Rxb1+,Kxb1,Qa2+,Kc1,Qa1+,Kd2,Rxd8+', 'https://lichess.org/training/b8qfe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b8tm1', 'Blitz', 'Crawenlil', 1861, 'edge77', 1810, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Na3,Be7,Bd3,Be6,O-O,O-O,Nc4,b5,Ne3,Nb4,Be2,Rc8,Bxf6,Bxf6,Ned5,Nxd5,Nxd5,Bg5,c3,f5,exf5,Rxf5,Bg4,Rc5,Bxf5,Bxf5,Ne3,Be6,a4,Qf6,axb5,axb5,Qxd6,Rc8,Ra7,Qg6,Nd5,Bxd5,Qxd5+,Kh8,Qd7,Rd8,Rd1,Rxd7', 'Ra8+,Bd8,Rxd8+,Rxd8,Rxd8+,Qe8,Rxe8#', 'https://lichess.org/training/b8tm1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B8uu5', 'Rapid', 'Butron', 1921, 'G8G2', 2074, 'd4,c5,d5,e6,Nc3,d6,Nf3,Nf6,Bg5,Be7,dxe6,fxe6,e3,O-O,h3,Nc6,Bf4,a6,Bd3,e5,Bg5,d5,Bxf6,Bxf6,Nxd5,Kh8,Nxf6,Qxf6,Be4,Bf5,Bxc6,bxc6,Qe2,e4,Nd2,Qxb2,O-O,Qf6,Qc4,Qg6,Kh2', 'Qd6+,Kg1,Qxd2', 'https://lichess.org/training/B8uu5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b8WWj', 'Blitz', 'elsanducero', 1776, 'prakas', 1867, 'e4,c6,Bc4,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Nxd7,Nf3,Ngf6,d4,e6,Bg5,Bd6,O-O,Qc7,Re1,Rc8,c3,O-O,h3,Ne4,Nbd2,Nxg5,Nxg5,Nf6,Qe2,Bf4,Ngf3,Rfe8,Ne5,Bh6,Ndf3,Ne4,g4,f5,g5,Nxg5,Nxg5,Bxg5,Qh5,Bh6,Kh1,Qe7,Rg1,Qf6,Nd7,Qf7,Qxh6,Qxd7,Rg2,Kh8,Qh5,Qe7,Rag1,Rg8,Rg5,Rcf8', 'Qxh7+,Kxh7,Rh5#', 'https://lichess.org/training/b8WWj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B8XLQ', 'Blitz', 'BeastLeo', 1831, 'minsungtkpn', 1852, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,Bc5,c3,h6,Nxf7,Bxf2+,Kxf2,Nxe4+,Ke1', 'Qh4+,g3,Nxg3,hxg3,Qxh1+', 'https://lichess.org/training/B8XLQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B8xMC', 'Blitz', 'stawil', 1501, 'oreobot', 1570, 'e4,e6,d3,b6,Nc3,Bb7,Nf3,Nf6,h3,d6,Be2,Nbd7,O-O,Be7,Nh2,h6,f4,Nc5,f5,Qd7,fxe6,Qxe6,Bg4,Qe5,Bf4,Qd4+,Kh1,h5,Bf5,g6,Nb5,Qxb2,Nxc7+,Kf8,Nxa8,Bxa8,Bxg6,fxg6,Bg5,Kg7,Rb1,Qxa2,Nf3,Rf8,Bxf6+,Bxf6,e5,Be7,d4,Ne4,exd6,Bxd6,Ne5,Ng3+,Kh2,Rxf1,Qd3,Qxb1,Qxg6+,Kf8,Qh6+,Ke8,Qe6+,Be7,Qc8+,Bd8,Qd7+,Kf8,Qxd8+,Kg7,Qe7+,Kh8,Ng6+,Kg8,Qe6+,Rf7,Ne7+,Kg7,Qe5+,Kf8', 'Ng6+,Kg8,Qh8#', 'https://lichess.org/training/B8xMC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b91NV', 'Blitz', 'Toffminator_Rex', 1555, 'serchio20012', 1705, 'd4,c6,c4,d5,Nc3,Nf6,Nf3,Bg4,e3,e6,Be2,Nbd7,O-O,Be7,h3,Bh5,Bd2,O-O,Re1,c5,cxd5,Nxd5,Nxd5,exd5,dxc5,Bxc5,Rc1,Qf6,b4,Bb6,Bc3,Qd6,a4,Bxf3,Bxf3,Bc7,Qd4,Qh2+,Kf1,Be5,Qxd5,Bxc3,Rxc3,Rad8,Rd1,g6,Qxb7,Ne5,Rxd8,Rxd8,Rc8', 'Qh1+,Ke2,Qd1#', 'https://lichess.org/training/b91NV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b93RU', 'Bullet', 'rot2', 1853, 'Dramatist', 1817, 'c4,Nf6,Nc3,e5,Nf3,d6,d4,exd4,Nxd4,Be7,e4,O-O,Be2,Nc6,O-O,Bd7,Be3,a6,f4,h6,Kh1,Rb8,b3,Nxd4,Bxd4,c6,e5,dxe5,fxe5,Nh7,Ne4,Qc7,c5,Be6,Nd6,Qd7,Bd3,f6,Qh5,fxe5,Bxe5,Bf6,Qg6,Ng5,Bxf6,Rxf6,Rxf6,Bd5,h4', 'Qh3+,Kg1,Qxg2#', 'https://lichess.org/training/b93RU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b94Fo', 'Classical', 'VagaDama', 1775, 'rockt7274', 2041, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,O-O,Bb3,d5,exd5,Nxd5,h3,Bf5,O-O,Qd7,Re1,Rae8,Bc2,Nf4,Bxf4,exf4,Rxe8,Rxe8,d4,Bxd4,Bxf5', 'Bxf2+,Kxf2,Qxd1', 'https://lichess.org/training/b94Fo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b95AD', 'Rapid', 'adhi_fianceto', 1680, 'Ahmedsu09', 1687, 'e4,d6,d4,Nf6,Bd3,g6,e5,dxe5,dxe5,Ng4,Nf3,Bg7,Bf4,Nc6,h3,Ngxe5,Nxe5,Nxe5,Bxe5,Bxe5,Nc3,Bxc3+,bxc3,O-O,O-O,b6,Qf3,Rb8,Rad1,Bb7,Qg3,e6', 'Bxg6,hxg6,Rxd8', 'https://lichess.org/training/b95AD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b95Fr', 'Blitz', 'Dr1000IQ', 2475, 'IM Cerdifixer', 2449, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be2,O-O,Be3,c5,d5,e6,Nf3,exd5,cxd5,Bg4,Nd2,Bxe2,Qxe2,Na6,O-O,Rb8,a4,Re8,f3,Nb4,Nc4,b6,Qd2,a6,Bf4,Bf8,Rad1,b5,e5,bxc4,exf6,Qxf6,Ne4,Qd8,Bg5,Be7,Bxe7,Qxe7,Qc3,Qe5,Nf6+,Kg7,Nxe8+,Rxe8,Qxc4,Qxb2,Rfe1,Rxe1+,Rxe1,Qd2,Qe4,Nd3,Qe3', 'Qxe1+,Qxe1,Nxe1', 'https://lichess.org/training/b95Fr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b9cXu', 'Rapid', 'Batteruno', 1794, 'reivajef', 1892, 'e4,e5,Nf3,Nc6,Bc4,Be7,c3,Nf6,Qe2,O-O,O-O,d6,Re1,Bg4,d3,d5,exd5,Nxd5,Qe4,Nf6,Qe3,Bxf3,Qxf3,h6,Qg3,Kh8,Nd2,Bd6,Ne4,Nxe4,dxe4,f5,exf5,Rxf5,Bd3,e4,Qg6,Bxh2+,Kxh2', 'Qh4+,Kg1,Qxf2+', 'https://lichess.org/training/b9cXu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B9eV2', 'Rapid', 'Ripper13', 1993, 'Shamikus', 2038, 'e4,e5,Nc3,Nc6,Nf3,f5,d4,fxe4,Nxe4,d5,Nc3,e4,Ne5,Nxe5,dxe5,Bb4,Be2,d4,O-O', 'dxc3,Qxd8+,Kxd8', 'https://lichess.org/training/B9eV2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B9Hd8', 'Rapid', 'Sendros_ug', 1712, 'finch_harold', 1680, 'd4,d5,c4,e6,cxd5,exd5,Nc3,Nf6,Bg5,Bb4,Bd2,O-O,a3,Ba5,b4,Bb6,e3,Bf5,Nf3,Ne4,Bd3,Nxc3,Bxc3,Be6,Qc2,h6,O-O,Nd7,Rfe1,c6,Rad1,Nf6,Ne5,Bc7,f4,Bg4,Be2,Bxe2,Rxe2,Ne4,Nf3,g5,Rf1,g4,Nd2,f5,Nxe4,fxe4,Be1,a6,h3,gxh3,gxh3,Rf5,Rg2+,Kf7,Qe2,Ke6,Rg6+,Kd7,Rxh6,Kc8,Bh4,Qg8+,Qg2,Qf8,Qg6,Kb8,Rf2,Rf7,Rg2,Ka7,Bf6,Rb8,Rh8', 'Rxf6,Rxf8,Rxg6,Rxb8,Rxg2+', 'https://lichess.org/training/B9Hd8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b9HO3', 'Bullet', 'Pitiplaf', 2695, 'IM Bashirli', 2768, 'Nf3,e5,g3,e4,Nd4,d5,Nb3,c5,Bg2,c4,Nd4,Nc6,c3,Nf6,d3,exd3,exd3,Nxd4,cxd4,Bb4+,Nc3,cxd3', 'Qa4+,Qd7,Qxb4', 'https://lichess.org/training/b9HO3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b9Hz4', 'Blitz', 'Sergey_Alekseev', 1953, 'geroronimo', 1930, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Bd7,Bd3,cxd4,cxd4,Qb6,O-O,Nxd4,Nxd4,Qxd4,Nc3,a6,Qe2,Ne7,Kh1,Nc6,f4,Bc5,Bd2,Nb4,Rf3,Nxd3,Rxd3,Qf2,Qg4,O-O,Nxd5,Bc6,Nf6+,Kh8,Rh3,gxf6,exf6,Rg8', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/b9Hz4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B9IRG', 'Rapid', 'isralov', 1944, 'argatour2', 1900, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Bg5,Be7,Nc3,Nxe4,Nxe4,Bxg5,Nf3,Be7,Bc4,O-O,Qd2,Nb4,a3,d5,axb4,dxe4,Qxd8,Rxd8,Ne5,Bxb4+,c3,Bd6', 'Nxf7,Kf8,Nxd8', 'https://lichess.org/training/B9IRG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B9JFQ', 'Rapid', 'MaxEve', 1929, 'Guerrero73', 1781, 'e4,c5,Nf3,d6,Bc4,e6,c3,a6,a4,Nf6,Qe2,Nc6,d4,d5,exd5,Nxd5,Bxd5,Qxd5,dxc5,Bxc5,O-O,O-O,c4,Qh5,Be3,Bd6,h3,Ne5,Nbd2,Bd7,Rfe1,Rac8,b3,Nc6,Ne4,Bb8,Nd4,Qe5,Nxc6', 'Qh2+,Kf1,Qh1#', 'https://lichess.org/training/B9JFQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B9KY1', 'Rapid', 'Almightydark', 1740, 'solflores927', 1772, 'e4,c5,Nf3,Nc6,Bc4,e5,Nc3,Be7,d3,d6,Ke2,Nf6,Ng5,O-O,Kf1,Ng4,h4,h6,f3,Nf6,f4,hxg5,hxg5,Ng4,fxe5,Ncxe5,Qe1,Bxg5,Bxg5,Qxg5,Qg3,Ne3+,Kf2,Qxg3+,Kxg3,Nxc2,Raf1,Nd4,Rh4,Be6,Rhf4,Bxc4,dxc4,Nxc4,Nd5,Ne2+,Kf3,Nxf4', 'Ne7+,Kh7,Rh1+,Nh5,Rxh5#', 'https://lichess.org/training/B9KY1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b9MQq', 'Blitz', 'sn184', 1578, 'andreguedes7', 1602, 'Nf3,Nc6,d4,d5,Nc3,Nf6,Bf4,Bf5,e3,a6,Bd3,Bg6,O-O,e6,Bg5,Be7,Ne5,Nxe5,dxe5,Nd7,Bf4,Nc5,Bxg6,hxg6,Ne2,g5,Bg3,Ne4,f3,Nxg3,Nxg3,c5,f4,gxf4,exf4,b5,b3,c4,Ne2,cxb3,axb3,Bb4,c3,Ba5,b4,Bb6+,Kh1', 'Rxh2+,Kxh2,Qh4#', 'https://lichess.org/training/b9MQq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b9naf', 'Rapid', 'iampim', 1839, 'oleg51', 1862, 'e4,c6,Nf3,d5,e5,Bf5,d4,e6,c4,a6,Bd3,Bxd3,Qxd3,Bb4+,Nc3,Ba5,cxd5,cxd5,O-O,Nc6,a3,h6,Be3,Nge7,Rfe1,Bb6,Rac1,O-O,h3,Na5,Na4,Ba7,Nh2,Nc4,f4,Qd7,Nc5,Bxc5,dxc5,Rac8,Red1,Nxb2,Qd2,Nxd1,Qxd1,Nc6,Qg4,Kh7,Nf3,d4,Bd2,Qd5,f5,exf5,Qxf5+,Kh8,Bxh6,gxh6,Qf6+,Kg8,Qxh6,Qe6,Qf4,Qg6,Rf1,Rce8,Nh4,Qh7,Rf3,Nxe5,Rg3+,Ng6,Qf6,d3', 'Nxg6,fxg6,Rxg6+,Qxg6,Qxg6+', 'https://lichess.org/training/b9naf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b9r9i', 'Rapid', 'szachowykoxu12', 1657, 'M_RASLAN', 1701, 'e4,d6,d4,Nf6,Nc3,g6,Bg5,Bg7,Nf3,O-O,Bc4,Nxe4,Nxe4,d5,Bxe7,Qxe7,Bxd5,c6,Bxf7+,Rxf7,Ng5,Rf5,Qe2,h6,Nf3,Rxf3,gxf3,Bxd4', 'Qc4+,Be6,Qxd4', 'https://lichess.org/training/b9r9i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B9Rff', 'Rapid', 'Lucashistory', 1734, 'Pradeep18', 1748, 'd4,d5,c3,c5,Bf4,e6,e3,Bd6,Bg3,Nf6,Bd3,c4,Bc2,O-O,Nd2,b5,Ngf3,Qc7,Bxd6,Qxd6,e4,dxe4,Nxe4,Qe7,Nxf6+,Qxf6,Be4,Nc6,Bxc6,Rb8,O-O,Rb6,Ne5,Qg5,Re1,f6,Nf3,Qf4,Be4,Re8,Qc2,g6,Qd2,Qxd2,Nxd2,f5,Bf3,Bb7,Bxb7,Rxb7,Nf3,b4,cxb4,Rxb4,Re2,Kf7,Ne5+,Kf6,a3,Rb3,Nxc4,Rd3,Rd2,Rb3,Ne5,Rd8,h3,Kg7,Rc1,Kh6,Rc7,Rdb8,Rxa7,Rxb2,Rxb2,Rxb2,a4,Rb4,Nf3,Rb1+,Kh2,Rb2,Kg3,g5,a5,f4+,Kg4,Rxf2,Nxg5,Rxg2+,Kxf4,Rxg5,h4,Rf5+,Kg4,Rd5,a6,Rxd4+,Kf3,Rxh4,Re7,Ra4,Rxe6+,Kg7,Rb6,h5,Rb7+,Kg6,a7,Kg5,Ke2,h4,Kf1,Kg4', 'Rb4+,Rxb4,a8=Q', 'https://lichess.org/training/B9Rff');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b9ScX', 'Rapid', 'salirbeber', 1966, 'White_And_Black', 1638, 'e4,e5,f4,Nc6,Nf3,d6,Bc4,Bg4,O-O,Nd4,fxe5,Nxf3+,Rxf3,dxe5,Bxf7+,Ke7,Bxg8,Rxg8,d3,Bxf3,Qxf3,Kd7,Qf5+,Kd6,d4,Qf6', 'dxe5+,Qxe5,Bf4,Qxf4,Qxf4+', 'https://lichess.org/training/b9ScX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B9sMR', 'Rapid', 'ppVarelaJL', 2022, 'heru72', 2038, 'e4,e5,Bc4,Nc6,d3,Bc5,c3,d6,b4,Bb6,a4,a6,Be3,Ba7,Nf3,Nf6,O-O,O-O,Nbd2,Be6,Ng5,Bxc4,Nxc4,h6,Nh3,Qd7,Bxa7,Nxa7,f4,Ng4,f5,Nf6,Rf3,d5,Ne3,Rad8,c4,dxe4,Nd5,exf3,Nxf6+,gxf6,Qxf3,Kh7,Qh5,Rg8,Qh4,Qxf5,Rf1,Qe6', 'Rxf6,Qxf6,Qxf6', 'https://lichess.org/training/B9sMR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b9sN4', 'Blitz', 'RonaldBerdera5', 2223, 'IM Black_Winter_Day', 2483, 'd4,Nf6,Nc3,e6,e4,d5,Bg5,Be7,Bxf6,Bxf6,Nf3,dxe4,Nxe4,Bd7,Bc4,Bc6,Qd3,Nd7,O-O-O,Nb6,Bb3,Bxe4,Qxe4,c6,h4,Qd6,Ne5,h6,g4,Qe7,g5,hxg5,hxg5,Bxg5+,f4,Rxh1,Rxh1,Bh6,a4,O-O-O,Kb1,Nd5,Rf1,f6,Ng6,Qd6,f5,exf5,Qxf5+,Kb8,Re1,a5,c4,Nb4,Re4,Qh2,Qf1,Qd2,d5,cxd5,cxd5,Nd3,Bc2,Nc5,Re7,Qxd5,Nf4,Qd6,Ng6,Rd7,Re8+,Ka7,Qb5,Qb6', 'Ra8+,Kxa8,Qxb6', 'https://lichess.org/training/b9sN4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('B9trF', 'Blitz', 'nestorcorral', 2093, 'Enunfuturo', 1787, 'd4,f5,g4,fxg4,e4,d6,h3,Nf6,hxg4,Bxg4,f3,Nxe4,Qd3,Ng3,fxg4,Nxh1,Qh3,e5,g5,Be7,Nf3,Nc6,dxe5,Nxe5,Nxe5,dxe5,Qxh1,Bxg5', 'Qh5+,g6,Qxg5,Qxg5,Bxg5', 'https://lichess.org/training/B9trF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('b9UId', 'Rapid', 'dtweb', 1801, 'j-why', 1810, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be3,Bg7,Qd2,h6,Bd3,Ng4,h3,Nxe3,Qxe3,Nc6,Bb5,Bd7,O-O-O,a6,Nxc6,bxc6,Bc4,Rb8,f4,Qa5,Rd3,O-O,g4,Qb4,Bb3,c5,Nd5,Qb5,c4,Qb7,Nxe7+,Kh7,Rxd6,f5,exf5,Qxh1+,Rd1,Qh2,Rd2,Qh1+,Kc2,Qa1,fxg6+,Kh8,Kd3,Qf1+,Re2,Bd4,Qe4,Rxf4,g7+,Kxg7', 'Qg6+,Kh8,Qxh6#', 'https://lichess.org/training/b9UId');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ba2jj', 'Rapid', 'davids2001', 1674, 'Kaz1972', 1773, 'e4,e5,Nf3,Nc6,Bb5,d6,c3,Be6,d4,exd4,cxd4,Bd7,O-O,Be7,Nc3,a6,Ba4,b5,Bc2,Nf6,h3,O-O,Qd3,g6,Re1,Ne8,a3,b4,Nd5,bxa3,bxa3,Be6,Nxe7+,Nxe7,Qc3,Bd7,d5,Ng7,Bh6,f6,e5,fxe5,Nxe5,dxe5,Qxe5,Rf7,Bb3,Nef5,Bxg7,Rxg7', 'd6+,Kh8,dxc7', 'https://lichess.org/training/Ba2jj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ba2mX', 'Classical', 'menelaos1997', 1831, 'Bocko-Jezic', 2072, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Be3,Nxd4,Bxd4,Bxd4,Qxd4,Qf6,Qb4,a5,Qb3,Ne7,Bd3,d6,Nd2,O-O,O-O,b6,a4,Be6,Bc4,Nc6,Bxe6,fxe6,c3,Ne5,h3,Nd3,Nf3,Qg6,Nd4,Nf4,g3,Nxh3+,Kh2,Qh5', 'Qxe6+,Rf7,Qxh3', 'https://lichess.org/training/ba2mX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('ba2nK', 'Blitz', 'FM promacherr', 2654, 'GM DJ_Haubi', 2480, 'd4,g6,Nf3,Bg7,Bg5,d6,Nbd2,Nd7,e4,h6,Bh4,a6,c3,b6,Bc4,Bb7,Qe2,g5,Bg3,e6,O-O,Ne7,a4,Ng6,h3,O-O,Bd3,e5,d5,Nf6,Rfe1,Bc8,Nf1,Nf4,Qc2,N6h5,Ne3,Nxg3,fxg3,Nxd3,Qxd3,h5,Nf5,g4,N3h4,Qg5,Rf1,Bh8,Rae1,Bd7,b3,b5,a5,Rad8,Qe2,Bf6,Rf2,c6,Ref1,cxd5,exd5,e4,Nxd6,Be5,Nxe4,Qg7,Nf6+,Bxf6,Rxf6,Rde8,Qf2,gxh3,gxh3,Bxh3,Rd1,Re4,Kh2,Bg4,Rd2,Rfe8,d6', 'Re2,Rxe2,Rxe2,Qxe2,Bxe2', 'https://lichess.org/training/ba2nK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Ba2qu', 'Rapid', 'Lirion', 2008, 'aceitunator', 1811, 'd4,d5,c4,e6,a3,Nf6,Nc3,Be7,Nf3,O-O,Ne5,Nbd7,Bf4,Nxe5,Bxe5,Bd6,Bxf6,Qxf6,cxd5,e5,Ne4,Qd8,Nxd6,Qxd6,e4,c6,dxc6,bxc6,dxe5,Qxe5,Qc2,c5,Bc4,Bf5,f3,Bg6,Rd1,Rab8,b3,Rfd8,O-O,h5,Bd5', 'Rxd5,Rxd5,Qxd5,exd5,Bxc2', 'https://lichess.org/training/Ba2qu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bA3jk', 'Blitz', 'millan80', 2166, 'cianochess', 2239, 'd4,e6,Nf3,d5,e3,Nf6,Bd3,g6,O-O,Bg7,Re1,O-O,c4,c6,Nc3,Nbd7,Bd2,Re8,Rc1,a5,Qc2,dxc4,Bxc4,e5,Rcd1,Qe7,dxe5,Nxe5,Be2,Bf5,Qb3,Be6,Qc2,Nxf3+,Bxf3,Red8,e4,Nd7,Ne2,Ne5,Nf4,Nxf3+,gxf3,Be5,Nxe6,Qxe6,f4,Bc7,f5,gxf5,exf5,Qd6,f4,Qh6,Qe4,Bb6+,Kh1,Rd5,Qg2+,Kf8,Qe4,Rad8', 'Qe7+,Kg8,Rg1+,Bxg1,Rxg1+', 'https://lichess.org/training/bA3jk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BA5Sz', 'Rapid', 'traversc', 1906, 'amun784', 1758, 'e4,d6,d4,b6,c4,Bb7,Nc3,e6,Nf3,Be7,Bd3,Nd7,O-O,c5,d5,exd5,exd5,Ngf6,Re1,O-O,Qc2,Re8,Bf4,h6,Re2,Nh5,Bd2,Bf6,Ne4,Be5,Rae1,Nf4,Bxf4,Bxf4,g3,Be5,Kg2,Nf6,Nxe5,Rxe5,Qc3,Nxe4,Rxe4,Rxe4,Bxe4,Qg5,a4,f5,Bc2,f4,Qd3,Kf8,Re6,Bc8,Rxd6,Bg4,Qe4', 'f3+,Qxf3+,Bxf3+', 'https://lichess.org/training/BA5Sz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('baaIr', 'Blitz', 'faramarz41', 1813, 'msed84', 1811, 'd4,Nf6,c4,d6,Nc3,e5,d5,Be7,e4,O-O,Nf3,c6,Be2,cxd5,cxd5,Nbd7,O-O,Nc5,Qc2,Bd7,b4,Na6,Qb2,Rc8,Bd2,Nc7,a4,Bg4,a5,a6,h3,Bxf3,Bxf3,Qd7,Be2,Nb5,Bxb5,axb5,Rfe1,Rc4,f3,Rfc8,a6,bxa6,Rxa6,Nh5,Kh2,f5,Qa3,f4,Ra7,Qe8,Qa5,Bh4,Rc1,Qg6,Qxb5,Qg3+,Kh1,Qf2,Qd7,Ng3+,Kh2,Nf1+,Rxf1', 'Bg3+,Kh1,Qxf1#', 'https://lichess.org/training/baaIr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bAalH', 'Rapid', 'LuIPI10', 1739, 'akpv', 1725, 'e4,e5,Nf3,d6,Bc4,Nf6,Nc3,a6,d4,b5,Bb3,b4,Nd5,Nxe4,O-O,exd4,Qxd4,Nc5,Qxb4,Nc6,Qe1+,Be7,Bg5,f6,Be3,Nxb3,axb3,O-O,c4,Qe8,Nxc7,Qg6,Nxa8,Bh3,g3,Qe4,Qd1,Ne5,Qd5+', 'Qxd5,cxd5,Nxf3+', 'https://lichess.org/training/bAalH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('baCt6', 'Rapid', 'GuiFerreira2010', 2018, 'FrancoCardenas_UNSA', 2119, 'e4,e5,d3,Nc6,f4,d5,Nf3,dxe4,Nxe5,Nxe5,fxe5,Be6,d4,c5,c3,cxd4,cxd4,Bb4+,Bd2,Qxd4', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/baCt6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BadSx', 'Rapid', 'rumo2200chess', 2104, 'Knight_Traine', 2032, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e6,O-O,Be7,f4,O-O,Qe1,Nc6,Be3,Qc7,Kh1,b5,Nxc6,Qxc6,e5,dxe5,fxe5,Nd5,Bf3,Bb7,Qg3,Rfd8,Bh6,Bf8,Nxd5,exd5,c3,Qxh6,Rad1,Qb6,Rd4,Bc5,Rh4,d4,Bxb7,Qxb7,Qd3,g6,cxd4,Bf8,Rf3,Bg7,Rfh3,Rac8,Qf1,Qd5,Rxh7,Qxd4', 'Rxg7+,Kxg7,Qf6+,Kg8,Rh8#', 'https://lichess.org/training/BadSx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BaEcV', 'Bullet', 'IM IMFAR', 2668, 'FM Unkreativ3', 2711, 'g3,c5,Nf3,g6,Bg2,Bg7,O-O,Nf6,e4,O-O,e5,Nd5,c4,Nc7,Re1,Nc6,Nc3,Rb8,d3,d6,a4,Nxe5,Nxe5,dxe5,Be3,b6,a5,Bb7,Bxb7,Rxb7,a6,Rb8,h4,Ne6,h5,Nd4,Nd5,e6,Nc3,f5,Bxd4,exd4,Nb5,e5,Nxa7,Qd7,Nb5,e4,a7,Ra8,dxe4,f4,Qf3,Be5,hxg6', 'fxg3,Qh5,gxf2+', 'https://lichess.org/training/BaEcV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bAEGG', 'Blitz', 'GM Dybamo', 2645, 'Kraakeen', 2421, 'e4,b6,d4,Bb7,Nd2,e6,Bd3,Nf6,Qe2,d5,e5,Nfd7,c3,c5,Ngf3,Qc8,a4,Ba6,Bb5,Bxb5,axb5,a5,O-O,Be7,Re1,O-O,Nf1,c4,Ng3,Qe8,Qc2,f5,exf6,Bxf6,Bf4,Qe7,Re2,Re8,Nf5,Qd8,Nd6,Re7,Rae1,Nf8,g4,g6,h4,Bg7,Ng5,Nbd7,Nxe6,Nxe6,Rxe6,Rxe6,Rxe6,Qxh4,Qe2,Nf6,f3,Rf8,Qh2,Qxh2+,Bxh2,Bh6,Re2,a4,Kg2,Ra8,Be5,Nd7,Bg3,Bc1,f4,Nf6,g5,Ne4,Nxe4,dxe4,Rc2,Be3,Re2,Bc1,Kf1,e3,Rc2,Bd2,Be1,Bxe1,Kxe1,a3,bxa3,Rxa3,Ke2,Rb3,Kxe3,Rxb5,Ke4,Kf7,Ra2,Ra5,Rb2,b5,d5,Ke7,Ke5,Ra3,Rxb5,Rxc3,Rb7+,Kd8,Kd6,Kc8,Rxh7,Re3,Kc6,Kd8,d6,c3,Ra7,Ke8,Ra2,Rd3,Kc7,Rd4,f5,gxf5,g6,Rc4+,Kb6,Kd7,Kb5', 'c2,Kxc4,c1=Q+', 'https://lichess.org/training/bAEGG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BAEip', 'Rapid', 'bobbytassello', 1684, 'julianrey', 1863, 'e4,e5,Nf3,Nf6,Nc3,Nc6,Be2,d5,exd5,Nxd5,Nxd5,Qxd5,c3,Be7,O-O,Be6,c4,Qd7,b3,O-O,Bb2,Bf6,h3,Qe7,a4,Rad8,Ba3,Nb4,Qc1,e4,Ne1,Bxa1,Qxa1,a5,Nc2,c5,Nxb4,cxb4,Bb2,Rxd2,Bxg7,Rxe2,Bh6,f5,Rd1,Qf6,Rd8,Re1+,Qxe1,Rxd8,Qe3,Qe5', 'Qg5+,Kf7,Qxd8,Qa1+,Kh2', 'https://lichess.org/training/BAEip');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BaF2X', 'Rapid', 'the15', 1881, 'Anatoliy1968', 1900, 'e4,d6,d4,Nf6,Nc3,g6,Bc4,Bg7,Nf3,O-O,Be3,Nbd7,O-O,e5,dxe5,Nxe5,Nxe5,dxe5,f3,Qe7,Nd5,Nxd5,Qxd5,Be6,Qb5,c6,Qb3,Bxc4,Qxc4,Rfd8,Rad1,a6,Bb6,Rxd1,Rxd1,Bf8,a3,Kg7,Qc3,h5,Qd3,Kh7,Qd7,Qxd7,Rxd7,Kg7,Rxb7,a5,Rc7,Rb8,Rxc6,Kh6,a4', 'Rxb6,Rxb6,Bc5+,Kh1,Bxb6', 'https://lichess.org/training/BaF2X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bAFFg', 'Blitz', 'BlomChess', 1909, 'Coyote-Stark', 1950, 'e4,c5,Nc3,d6,f4,e5,fxe5,dxe5,Bb5+,Nc6,Bxc6+,bxc6,d3,h6,Qh5,Bd6,Be3,Nf6,Qf3,Rb8,Rb1,Qa5,h3,Be6,a3,Rxb2,Bd2,Rxb1+,Nxb1,Qc7,Ne2,c4,O-O,cxd3,cxd3,Bc5+,Kh1,O-O,Bxh6,gxh6,Qxf6,Kh7,Nd2,Be3,Nf3,Bd4,Nexd4,exd4,Qxd4,f5,Nh4,Qg7,Qxg7+,Kxg7,Nxf5+,Bxf5,exf5,Rd8,Rf3,Kf6,g4,Rd4,Re3,Ra4,Re6+,Kg5,Rxc6,Rxa3,Rd6,Kh4,Rxh6+', 'Kg3,Rc6,Ra1+,Rc1,Rxc1#', 'https://lichess.org/training/bAFFg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('baFju', 'Classical', 'NjugunaDavies', 1759, 'vasicakobasica', 1821, 'e4,d5,exd5,Qxd5,Nc3,Qd6,Nb5,Qc6,c4,b6,Qf3,Qe6+,Be2,Qc6,Qxc6+,Nxc6,Nxc7+,Kd7,Nxa8,Bb7,Nxb6+,axb6,Nf3,e6,O-O,Nb4,Bd1,Be4,a3,Nc6,b4,Bd3,Re1,Bxc4,Bb2,f6,Nd4,Ne5,Bc2,Nh6,f4,Nef7,Nxe6,Bxe6,a4,Bxb4,Bc3,Bd6,Bd4,Bxf4,Bxb6,Rc8,Bxh7,Be5,d4,Bd6,a5,Bb4,Reb1,Bc3,Ra3,Bd2,a6,Be3+,Kh1,Bf5,Bxf5+,Nxf5,a7', 'Ng3+,hxg3,Rh8#', 'https://lichess.org/training/baFju');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('baIcC', 'Rapid', 'Treebeard1986', 1883, 'antoinesolovyov', 1828, 'e4,e6,d4,d5,e5,Ne7,Nf3,Nf5,Bd3,Nh4,Nbd2,Bb4,c3,Nxf3+,Nxf3,Be7,h4,h6,h5,Nd7,O-O,Nf8,Be3,Nh7,Qd2,Ng5,Nxg5,Bxg5,f4,Bh4,f5,exf5,Bxf5,Bxf5,Rxf5,Qe7,Raf1,f6,exf6,Bxf6,Bxh6,O-O-O,Bxg7,Bxg7,Rf7,Bh6,Qxh6', 'Qxf7,Rxf7,Rxh6', 'https://lichess.org/training/baIcC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BAIVE', 'Classical', 'YarikT', 1966, 'khosronikan', 1895, 'd4,d5,Bf4,Nf6,c4,e6,e3,c6,Nc3,h6,Nf3,Nh5,Bg3,Nxg3,hxg3,Nd7,Bd3,Be7,Qc2,dxc4,Bxc4,Nf6,e4,Bb4,e5,Nd5,Bxd5,exd5,a3,Ba5,b4,Bb6,Na4,Bg4,Nc5,Bxc5,bxc5,Bxf3,gxf3,Qa5+,Qd2,Qxd2+,Kxd2,Kd7,Ra2,Rhf8,Rb2,Rab8,Rhb1,Kc7,Ke3,f6,f4,fxe5,fxe5,g5,Rh1,Rh8,f3,Rbf8,Rbh2,b6,cxb6+,axb6,Rxh6,Rxh6,Rxh6,Kd7,Rg6,Ra8,Rg7+,Ke6,Rg6+,Kd7,Rg7+,Ke6,Rxg5,Rxa3+,Kf4,b5,Rg6+,Kd7,Rg7+,Ke6,Kg4,Ra4,f4,Rxd4,Rc7,Rc4,Rc8,b4,Rb8,d4,Kf3,c5,Rb6+,Ke7,Ke4,Rc3,Kd5,d3,Ke4,b3,f5', 'd2,f6+,Kf7', 'https://lichess.org/training/BAIVE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bAKnk', 'Blitz', 'KingLuna', 1877, 'War-chest_101', 1894, 'e4,d5,exd5,Qxd5,d4,Qd8,Nf3,e6,Bc4,g6,Nc3,Bg7,Be3,Ne7,Qd2,O-O,O-O-O,a6,Bh6,b5,Bd3,b4,Ne4,a5,h4,Nf5,Bxg7,Kxg7,h5,Rh8,g4,Nxd4,h6+,Kg8,Qf4,Nxf3,Nf6+,Kf8,Qxf3,Ra7,Bxg6,Qe7,Nxh7+,Ke8,Nf6+,Kf8,Be4,c5,g5,Bb7,Rd7,Nxd7,Bxb7,Nxf6,gxf6,Qxb7,Qh3,Qe4,Rd1,Ra8,Kb1,Qf5,Qh4,Qg6,Qh1,Re8,Qc6,Qxf6,Qd6+,Kg8,Rg1+,Kh7,Qd3+,Kxh6', 'Qh3+,Qh4,Qxh4#', 'https://lichess.org/training/bAKnk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BalEW', 'Rapid', 'Soarilalao', 1808, 'Juan4397', 1824, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Nf6,b3,Bc5,Bb2,d6,Qe2,Bg4,Nd5,Bd4,c3,Bc5,h3,Bh5,O-O-O,O-O,d4,Bb6,Qe3,Bg6,Nd2,Na5,Bd3,Nd7,Nxb6,axb6,f4,exd4,cxd4,c5,d5,b5,g4,c4,bxc4,bxc4,Nxc4,Qc8,Kb1,Nxc4,Qd4,Nce5,fxe5,dxe5,Qe3,Qc7,Rc1,Qa5,Bc4,b5,Bb3,Rfc8,h4,f6,g5,Nc5,Rxc5,Rxc5,Qxc5,Bxe4+,Ka1,Bxh1,Bc3,b4,Qxa5,Rxa5,Bxb4,Rb5', 'd6+,Kh7,d7', 'https://lichess.org/training/BalEW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bAlfY', 'Rapid', 'jjaramir', 1649, 'Sergei_V_Bres', 1658, 'e4,e6,Nf3,d5,exd5,exd5,a3,c5,Bb5+,Nc6,O-O,Be7,c3,Nf6,d3,O-O,Bxc6,bxc6,Bg5,Bg4,h3,Bh5,Nbd2,a5,Qa4,Qc7,Rfe1,h6,Bh4,Rfe8,Bg3,Bd6,Rxe8+,Rxe8,Bxd6,Qxd6,Qxa5,Bg6,d4,cxd4,Nxd4,Rb8,b4,Nd7,Qa6,Kh7,Qxc6,Qe7,Qxd5,Nf6,Qf3,Re8,a4,Be4,Nxe4,Nxe4,a5,Qc7,Rc1,Nxc3,Nb5', 'Ne2+,Qxe2,Qxc1+', 'https://lichess.org/training/bAlfY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bAljM', 'Blitz', 'justmad', 1816, 'crandall15', 1886, 'd4,Nf6,c4,e6,Nc3,Bb4,Qc2,b6,a3,Bxc3+,Qxc3,Bb7,Bg5,h6,Bh4,g5,Bg3,h5,h4,g4,Be5,Ne4,Qe3,f6,Bh2,Qe7,O-O-O,d6,f3,g3,fxe4,gxh2,Rxh2,Nd7,Nf3,O-O-O,Qd3,Rhg8,e3,Rg4,e5,fxe5,dxe5,dxe5,Qc3,e4,Nd4,Nc5,Be2,Rxh4,Rxh4,Qxh4,b4,Nd3+,Bxd3,exd3,Rxd3,Qh1+,Rd1,Qxg2,Nxe6,Rxd1+,Kxd1,Bf3+,Kc1,Qa2,Qh8+,Kb7,Nd8+,Ka6', 'b5+,Ka5,Qc3+,Ka4,Qb4#', 'https://lichess.org/training/bAljM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BAmoZ', 'Rapid', 'suedwind2', 2096, 'WES2015', 2126, 'd4,Nf6,c4,c5,d5,e6,Nc3,a6,e4,exd5,exd5,d6,Bd3,Bd7,Nf3,b5,cxb5,axb5,Bxb5,Bxb5,Nxb5,Qa5+,Nc3,Nbd7,O-O,Be7,Re1,Rb8,Qe2,Qd8,Ne4,O-O,Nxf6+,Bxf6,Rb1,Nb6,Qd3,c4,Qd1,Qc7,Be3,Rfe8,Bxb6,Qxb6,Rxe8+,Rxe8,Qd2,h6,Re1,Rxe1+,Qxe1,Qxb2,Qe8+,Kh7,Qe4+,g6,Qxc4,Qb1+,Qf1,Qxa2,Qd1,Qc4,h3,Bc3,Qc2,Qb4,Qd3,Qc5,h4,Bf6,h5,Qc1+,Kh2,Qf4+,g3,Qg4,hxg6+,fxg6,Ng1,h5,Nh3,h4,Nf4,hxg3+,fxg3,Be5,Qf1,Bxf4,Qxf4,Qd1,Kh3', 'Qh1+,Kg4,Qh5#', 'https://lichess.org/training/BAmoZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BamsG', 'Rapid', 'davoglio007', 1775, 'unionspecial', 1854, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Be7,d3,h6,Bxc6,dxc6,Nxe5,Bd6,Nf3,Bg4,Nbd2,O-O,h3,Bxf3,Nxf3,Nd7,b3,f6,Bb2,c5,Nh4,Be5,Bxe5,Nxe5,Nf5,Kh7,f4,Nc6,Qg4,Rf7,Ne3,Qd4,Qe2,Nb4,Kh1,Qb2,Rfb1,Qc3,a3,Nc6,Nf5,g6,Ne3,Nd4,Qd1,Ne6,Nd5,Qa5,b4,Qb5,c4,Qc6,b5,axb5,cxb5,Qd6,a4,Nxf4,Nxf4,Qxf4,Qc2,Qd6,a5,Rd7,Rd1,Kg7,a6,b6,Qe2,c6,Qf3,cxb5,e5,Qd5,Qxf6+,Kh7,e6,Rg7,a7,Qb7,Re1,Qe7,Qf3,Rxa7,Rxa7,Qxa7,Qf6,Qe7,Qe5,b4,Qb8,h5,Qxb6,g5,Qc6,Rg6,Qd7,Qxd7', 'exd7,Rd6,Re7+,Kg6,Re6+,Rxe6,d8=Q', 'https://lichess.org/training/BamsG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BAncL', 'Classical', 'indsa1d', 1681, 'giopogg', 1706, 'd4,d5,c4,c6,Nc3,Nf6,Nf3,Bf5,cxd5,cxd5,e3,e6,Bb5+,Nc6,O-O,Bd6,Ne5,Rc8,Qa4,a6,Bxc6+,bxc6,Qxa6,O-O,Nxc6,Bxh2+,Kxh2,Qd6+,Kg1,Rc7,Ne7+,Qxe7,Qe2,Rb8,Na4,Ne4,b3,Qb4,Nc5,Rbc8,Na6,Nc3,Qd2,Qb5,Nxc7,Ne2+,Kh1,Rxc7,Re1,Rc2,Qd1,Nc3,Qf3,Qd3,Ba3,Ne4,Rf1,Nd2,Qd1,Nxf1,Qxf1,Qxf1+,Rxf1,Rxa2,Bc5,Be4,b4,Rb2,f3,Bd3,Rg1,f5,Kh2,g5,Kg3,Kf7,Rh1,Kg6,Rh2,h5,Bd6,h4+,Kh3,Kh5', 'g4+,Kg6,Rxb2', 'https://lichess.org/training/BAncL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BaNl4', 'Blitz', 'KK1977', 1989, 'Lev_Sharansky', 1987, 'e4,c5,Nf3,e6,e5,d5,d4,cxd4,Nxd4,Nc6,Bb5,Bd7,Nxc6,bxc6,Bd3,c5,O-O,c4,Be2,Bc5,Be3,Bxe3,fxe3,Qb6,Qd2,Ne7,Nc3,Nc6,Nxd5,exd5,Qxd5,Qxe3+,Kh1,O-O,Qxd7,Nxe5,Qb5,Qxe2,Rae1,Qxc2,Rxe5,Rab8,Qd7,Rxb2', 'Qxf7+,Rxf7,Re8+,Rf8,Rfxf8#', 'https://lichess.org/training/BaNl4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bao21', 'Rapid', 'mbelak', 1864, 'letterlijkgijs', 1835, 'e4,c5,Nf3,d6,Bc4,Nd7,d3,Ngf6,Nc3,a6,h3,b5,Bb3,Bb7,Ng5,Ne5,f4,c4,dxc4,bxc4,Ba4+,Ned7,O-O,h6,e5,hxg5,exf6,gxf6,fxg5,fxg5,Bxg5,Bh6,Bf4,Qb6+,Kh1,Bxf4,Rxf4', 'Rxh3#', 'https://lichess.org/training/bao21');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('baoHN', 'Blitz', 'QdA-CataniaScacchi', 1806, 'peruanospresentes', 1843, 'e4,Nf6,e5,Nd5,d4,d6,exd6,cxd6,Nc3,Nxc3,bxc3,g6,h3,Bg7,Nf3,O-O,Be3,Qc7,Bd3,Qxc3+,Bd2,Qc7,O-O,Nc6,c3,e5,dxe5,dxe5,Be4,Rd8,Qc1,Be6,Bh6,Bh8,h4,Rac8,h5,Ne7,hxg6,hxg6,Qg5,Bf5,Bxf5,Nxf5,g4,Qe7,gxf5,Qxg5+,Bxg5,Rd3,Nh4,f6,Be3,Rc4,Nxg6,Rg4+,Kh2,Rd7,Rg1', 'Rh7+,Bh6,Rxh6+,Nh4,Rxh4#', 'https://lichess.org/training/baoHN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BaoXB', 'Rapid', 'Zoran12345', 1814, 'kinglouis1962', 1914, 'e4,c5,Nf3,Nc6,Bc4,d6,h3,e6,Nc3,Be7,d4,cxd4,Nxd4,Bd7,a3,Nf6,O-O,O-O,Kh1,a6,f4,Qc7,Re1,Rac8,Bb3,Rfd8,f5,Nxd4,Qxd4,e5,Qf2,Bc6,Bg5,h6,Bh4,Re8,Rad1,Nh5,f6,Bxf6,Bxf6,Nxf6,Re3,Qb6,Rxd6,Rc7,Rdd3,Nxe4,Nxe4,Bxe4,Rc3,Rxc3,bxc3,Rc8', 'Qxf7+,Kh7,Rxe4', 'https://lichess.org/training/BaoXB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bap6R', 'Rapid', 'Streufeuer', 1712, 'AMarschall', 1854, 'd4,d5,c4,e6,Nc3,Nf6,Nf3,c6,cxd5,exd5,Bg5,Be7,e3,Ne4,Bxe7,Qxe7,Be2,Bf5,O-O,Nd7,Rc1,h5,Qb3,Rb8,a4,g5,Nxe4,Bxe4,Nd2,Bf5,Bd3,Bxd3,Qxd3,Nf6,Qf5,Ng4,h3,Nh6,Qe5,Qxe5,dxe5,Nf5,Nf3,g4,hxg4,hxg4,Nd4,Nh4,f4,gxf3,Nxf3,Ke7,Rcd1,Nf5,Kf2,Rh5,Rh1,Rbh8', 'Rxh5,Rxh5,g4', 'https://lichess.org/training/bap6R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bAP9Y', 'Rapid', 'IM Schachtrainer-Schuh', 2580, 'enesbeydiyeceksin', 2454, 'Nf3,d5,e3,Nf6,c4,c6,Nc3,e6,b3,Be7,Bb2,O-O,Qc2,b6,d4,Bb7,Bd3,Nbd7,O-O,Rc8,Ne5,c5,f4,cxd4,exd4,dxc4,bxc4,Nb8,Qf2,Nc6,Ne2,Ne8,Rae1,Nd6,Qg3,f6,Qh3,Nf5,Nf3,g6,g4,Nfxd4,Nexd4,Bc5,Rxe6,Nxd4,Nxd4,Bxd4+,Bxd4,Qxd4+,Rf2,Rce8,f5,Rxe6,fxe6,Re8,Qg3,Re7,h4,Qc5,h5,gxh5,Kh2,hxg4,Qxg4+,Rg7,Qf5,Qd6+,Rf4,Rg2+,Kh3,Rg6,Rg4,Rxg4', 'Qxh7+,Kf8,Qf7#', 'https://lichess.org/training/bAP9Y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BApF2', 'Classical', 'Erny-Italy', 1769, 'YAngel', 1687, 'e4,e5,Bc4,Nf6,Nc3,Bb4,d3,O-O,a3,Ba5,Nf3,d6,O-O,c6,h3,d5,exd5,cxd5,Ba2,d4,Ne2,Nc6,b4,Bb6,b5,Na5,Nxe5,Qe8,f4,Qxb5,Rb1,Qc5,Bb2,Nc6,Nxc6,bxc6,Bxd4,Qxa3,Bc4,Bxd4+,Nxd4,Qc5,c3,Nd5,Bxd5,cxd5,Rc1,Re8,Kh1,Qb6,Rb1,Qh6,Qd2,a5,Rfe1,Bd7,Rxe8+,Bxe8,Nf5,Qh5,Ne7+,Kf8,Re1,Ra6,Re5,Qh6,Nxd5,Bd7,Qe3,a4,Re8+,Bxe8', 'Qe7+,Kg8,Qxe8#', 'https://lichess.org/training/BApF2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bAQga', 'Rapid', 'hibou128', 2046, 'Cause_Complications', 2090, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d4,exd4,O-O,d6,Re1,Be7,Nxd4,O-O,Nc3,Ne5,Be2,c5,Nf3,Nxf3+,Bxf3,a6,Nd5,Nxd5,exd5,b5,Qe2,Bf6,Rb1,Bf5,Bf4,h6,b3,Qd7,Qd2,b4,Qd1,a5,Bc1,a4,Bb2,Bxb2,Rxb2,axb3,cxb3,Ra7,Rbe2,Kh8,Be4,Bxe4,Rxe4,Rxa2,Qf3,Ra7,g4,f5,g5,hxg5,Qh5+,Kg8,Re6,g4,Qg5,c4', 'Re7,Qxe7,Rxe7,Rxe7,Qxe7', 'https://lichess.org/training/bAQga');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bAR5C', 'Rapid', 'Qray212', 2071, 'AbrahamGarcia', 2066, 'e4,Nf6,Nc3,e5,Bc4,d6,Nge2,c5,a4,Nc6,d3,Be7,Bg5,O-O,O-O,h6,Bh4,Kh7,f4,Nd4,Nxd4,cxd4,Nd5', 'Nxd5,Bxd5,Bxh4', 'https://lichess.org/training/bAR5C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BAra0', 'Rapid', 'Bobur96', 1674, 'jorgemivar', 1660, 'e4,e6,d4,c5,Nf3,cxd4,Nxd4,Nc6,Nxc6,bxc6,Bd3,e5,O-O,Nf6,Nc3,h6,Be3,Bb7,Na4,Rb8,Rb1,d6,f3,Be7,f4,c5,Nc3,O-O,f5,Bc6,Rf3,d5,exd5,Nxd5,Nxd5,Bxd5,Rg3,Bg5,Bxg5,hxg5,Qh5,f6,h4,Bf7,Qg4,Qd4+,Qxd4,cxd4,hxg5,Bxa2,Ra1,Rxb2,g6,Rfb8', 'Rxa2,Rxa2,Bc4+,Kf8,Bxa2', 'https://lichess.org/training/BAra0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bArZZ', 'Rapid', 'Forgae', 1832, 'Bolt_fun', 1813, 'd4,d5,c4,dxc4,Nc3,g6,Nf3,Bg4,Qa4+,Nc6,Ne5,Bd7,Nxd7,Qxd7,Qxc4,Nxd4,Qd3,Bg7,e3,Qe6,Ne4,Nc6,a3,Rd8,Qc4,Qxc4,Bxc4,Nf6,Nc5,b6,Bb5,Rd6,Na6,Nd5,Nb4,Nxb4,axb4,O-O,Bxc6,Rxc6,Rxa7,Rc2,O-O,Bxb2,Bxb2,Rxb2,Rxc7,Rxb4,g3,e6,Rfc1,Rd8,f4,Rd3,Kf2,Rbb3,Re1,Rb2+,Re2,Rxe2+,Kxe2,Rb3,h4,Kg7,g4,Kf6,g5+,Kg7,Kd2,Rb5,Ke2,Rd5,Rb7,b5,Kf3,Rf5,e4,Rc5,e5,Rc3+,Kg4,Rb3,h5,Rb1,h6+,Kf8,Kf3,b4,Ke4,b3,Kd3,Rf1,Ke4,Re1+,Kd3,Rf1,Ke3,Rb1,Kd3,b2,Kc2,Rf1,Rb4,b1=Q+,Rxb1,Rxf4,Rb8+,Ke7,Rh8,Rg4,Rxh7', 'Rxg5,Rh8,Rxe5', 'https://lichess.org/training/bArZZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BasoN', 'Classical', 'SOLIDxATTACK', 1670, 'Kanntaim', 1630, 'e4,c5,b4,cxb4,d4,d6,f4,e5,d5,Qh4+,g3,Qf6,Bh3,Bxh3,Nxh3,h6,O-O,exf4,c3,bxc3,Bxf4,c2,Qxc2,Qxa1,Qc8+,Ke7,Qc7+,Nd7,Bxd6+,Ke8,Bxf8,Nxf8,Qxf7+,Kd8,d6,Qd4+,Nf2,Qxd6', 'Rd1,Qxd1+,Nxd1', 'https://lichess.org/training/BasoN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BaSzA', 'Rapid', 'nose78', 1767, 'naikus', 1762, 'e4,e6,d4,d5,Nc3,Bb4,Bd2,Bxc3,bxc3,dxe4,Qg4,Nf6,Qxg7,Rg8,Qh6,Nc6,Bg5,Rg6,Qh4,Bd7,Bxf6,Qxf6,Qxe4,O-O-O,Ne2,Ne7,Ng3,Bc6,Qe3,Re8,Rb1,Nf5,Nxf5', 'exf5,Qxe8+,Bxe8', 'https://lichess.org/training/BaSzA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BatbQ', 'Rapid', 'lev_kucherov', 1966, 'IvanRoshchyn', 1635, 'd4,Nf6,Nf3,d5,h3,Nc6,e3,Bf5,Bd3,Bxd3,cxd3,e6,Nc3,Bb4,O-O,Bxc3,bxc3,h5,Re1,Nd7,e4,dxe4,dxe4,f6,d5,Ncb8,dxe6,Nf8,Qb3,b6,Bf4,g5,Bh2,g4,Nd4,gxh3,Nf5,Qc8,Rad1,Nxe6,e5,hxg2,exf6,Kf7,Nd4,Re8,Nxe6,Rxe6,Re5,Nc6,Red5,Kxf6,Qc2,Ne7,Rxh5,Qg8,Bg3,Qg6,Bh4+,Kg7', 'Rg5,Qxg5,Bxg5', 'https://lichess.org/training/BatbQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BAtTh', 'Blitz', 'GM Renier07', 2703, 'FM Buscapina', 2561, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,Bxc3+,bxc3,Ne7,Nf3,Nbc6,h4,Qa5,Bd2,Bd7,h5,O-O-O,h6,gxh6,Rxh6,Ng8,Rh1,f6,Qb1,fxe5,Nxe5,Nxe5,dxe5,Ne7,Be2,h5,c4,Qc7,f4,h4,Qb3,Nf5,cxd5,Nd4,d6,Qc6,Qc4,Qxg2,Qxc5+,Bc6,Qxd4,Qxh1+,Bf1,Qe4+,Qxe4,Bxe4,Bh3,Bf5,Bxf5,exf5,Kf2,h3,Rh1,Rdg8,e6,Rg2+,Ke3,h2,Bc3,Rh3+,Kd4,Rg1,d7+,Kd8,Rxh2,Rxh2,Ke5,Rxc2,Bb4,Re2+,Kf6,Rge1', 'Be7+,Kc7,d8=Q+', 'https://lichess.org/training/BAtTh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BaUr5', 'Classical', 'vicio', 1671, 'pmacg', 1666, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Be3,Nf6,Nc3,Bb4,Nb5,Nxe4,Qd3,d5,O-O-O,Nxc3,Nxc3,O-O,Be2,Qf6,Nb5,a6,Nd4,Bd7,c3,Bc5,Rhf1,Nxd4,Bxd4,Bxd4,cxd4,Rac8+,Kb1,Qg5,h4,Qxg2,Rg1,Qxf2,Rdf1,Qxh4,Rg4,Qe7,Rh1,g6,Qh3,f5,Rxg6+,hxg6,Qh8+,Kf7,Rh7+,Ke8,Rxe7+,Kxe7,Qg7+,Rf7,Qxg6,Rcf8,Qg5+,Kd6,Qf4+,Kc6', 'Qc1+,Kd6,Qc5#', 'https://lichess.org/training/BaUr5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bav4x', 'Rapid', 'Grigory63', 1678, 'Acao', 1713, 'd4,d5,Bf4,Nf6,e3,e6,Nf3,c5,c3,c4,Ne5,Nbd7,Nd2,Nxe5,dxe5,Nd7,Bg3,Be7,f4,O-O,Be2,f6,exf6,Nxf6,Nf3,b5,Ne5,Bb7,O-O,Nd7,Bg4,Nxe5,fxe5,Qb6,Bf2,Bg5,Qe2,Rxf2,Rxf2,Bxe3,Bxe6+,Kh8,Rf1', 'Bxf2+,Qxf2,Qxe6', 'https://lichess.org/training/bav4x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BaW9X', 'Blitz', 'IM Golubov_Saveliy', 2734, 'Dgita35492', 2378, 'd4,Nf6,Nf3,g6,Bg5,Bg7,Nbd2,d5,c3,Ne4,Nxe4,dxe4,Nd2,Bf5,Qb3,b6,h3,h6,Be3,g5,d5,O-O,g4,Bg6,Bg2,c6,dxc6,Nxc6,Nxe4,Na5,Qd1,Nc4,Qxd8,Rfxd8,Bc1,Rac8,O-O,b5,Re1,a5,a3,a4,Ng3,Na5,Be4,Be5,Bxg6,fxg6,Ne4,Rc4,f3,Nb3,Rb1,Nc5,Nxc5,Rxc5,Be3,Rcd5,Kf2,Kf7,Rbc1,Rc8,Rh1,Bf4,Bxf4,gxf4,Rhd1,Ke6,Rxd5,Kxd5,Rd1+,Ke6,Rd4,g5,e3,fxe3+,Kxe3,Rc5,f4,gxf4+,Kxf4,Kf6,h4', 'e5+,Ke3,exd4+', 'https://lichess.org/training/BaW9X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BAWEm', 'Rapid', 'kawarau14', 1706, 'Nabukodonosor123', 1683, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,h6,O-O,d6,h3,Na5,Bb3,Nxb3,axb3,a5,d4,exd4,cxd4,Bb4,Qd3,O-O,Bd2,Bd7,e5,dxe5,Nxe5,c5,Bxb4,cxb4,Nd2,Qe8,Ndc4,Bb5,Qf3,b6', 'Nd6,Qd8,Nxb5', 'https://lichess.org/training/BAWEm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bAwjD', 'Rapid', 'panadolextra', 1699, 'valera2003', 1716, 'd4,d5,c4,dxc4,e3,e6,Bxc4,a6,Nc3,Bd7,Nf3,Bb4,O-O,h6,a3,Bd6,e4,Be7,e5,Nc6,Be3,f6,Re1,g6,Bd3,f5,g4,Bg5,gxf5,gxf5,h4,Bxh4,Nh2,h5,Be2,Qe7,Bxh5+,Kd8,Kh1,Na5,Rg1,Kc8,Bf3,Nc4,Qb3,Nb6,a4,Bc6,Bxc6,bxc6,a5,Nd5,Rg2,f4,Nxd5,exd5,Bxf4,Qh7,Rc1,Ne7,Rcg1,Qe4,Qe3,Qf5,Rg5,Bxg5,Rxg5,Qb1+,Qc1,Qe4+,Rg2,Qxd4,Be3,Qxe5,Qd2,Rb8,Bd4,Rxh2+,Rxh2,Qe4+,Rg2,Kd7,Qe3,Qh4+,Rh2,Qe4+,Qxe4,dxe4,Rh7,Rb5', 'Bf6,Ke6,Bxe7', 'https://lichess.org/training/bAwjD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BAXbJ', 'Classical', 'DrNykterstein_n2', 2024, 'SAWarrior', 1982, 'e4,d6,d4,Nf6,Nc3,g6,h3,Bg7,Bg5,O-O,e5,Nfd7,Nf3,Nc6,Bf4,dxe5,Nxe5,Ndxe5,Bxe5,Nxe5,dxe5,Bxe5,Qf3,Qd6,Rd1,Qb6,b3,Qb4,Rd3,Bf5,Re3,Bd4,Bc4,Bxe3,Qxe3,Bxc2,O-O,Bf5,Nd5,Qd6,Nxe7+,Kh8,Nxf5,gxf5,Qf3,Qg6,Qxb7,Rg8,g3,f4,Qxc7,fxg3,fxg3,Qxg3+,Qxg3,Rxg3+,Kh2,Rag8,Bxf7,Rg2+,Kh1,R8g3,Bd5,Rxa2', 'Rf8+,Kg7,Rg8+,Kf6,Rxg3', 'https://lichess.org/training/BAXbJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BAYih', 'Classical', 'Abs53', 1989, 'emiravseren', 2010, 'e4,c5,Nf3,e6,Nc3,Nc6,d4,cxd4,Nxd4,Nf6,Bc4,Bb4,Nxc6,bxc6,e5,Qa5,Bd2,Qxe5+,Be2,Ba6,O-O,Bxe2,Nxe2,Ng4,Bf4,Qf6,h3,Nh6,c3,Be7,Qd2,Nf5,Rad1,d5,Nd4,Nxd4,cxd4,g5', 'Be5,Qg6,Bxh8', 'https://lichess.org/training/BAYih');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bAYSs', 'Classical', 'hadjiyan', 1820, 'Abdo_83', 1638, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bc4,Be6,Bxe6,fxe6,O-O,e5,Qc4,Qd7,Nc3,a6,Bg5,h6,Bh4,g5,Bg3,O-O-O,Rfd1,Kb8,Bxe5,Rh7,Qxg8,Re7,Bg3,Bg7,Qc4,Bxc3,bxc3,h5,h3,h4,Bh2,g4,hxg4,Qxg4,Rd3,Rxe4,Qd5,Rde8,g3,Re1+,Rxe1', 'Rxe1+,Kg2,h3#', 'https://lichess.org/training/bAYSs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bazka', 'Rapid', 'Mantu123', 1659, 'racketsaber', 1751, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,Bd3,Nc5,Qe2+,Be7,O-O,O-O,Bc4,Bg4,d3,Nbd7,Be3,Bxf3,Qxf3,Ne5,Qd1,Nxc4,dxc4,Bf6,c3,Qd7,Nd2,Qc6,Qc2,Rae8,Rae1,Be5,Bd4,Re6,Re3,Rg6,f3,Re8,b4', 'Bxd4,cxd4,Rxe3', 'https://lichess.org/training/bazka');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BAzpG', 'Blitz', 'camaleon2018', 1921, 'CM IngDiegoMRChess', 2065, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Bc4,c6,h3,e6,Nf3,Nd7,d3,Be7,Bd2,Bf6,O-O,O-O,Rb1,b5,Bb3,a5,a4,b4,Ne4,Be7,Qe2,Nc5,Nxc5,Bxc5,d4,Ba6,Bc4,Bxc4,Qxc4,Bd6,Rfe1,Rc8,Qe2,Bb8,c3,c5,dxc5,Rxc5,cxb4,Nxb4,Rec1,Rd5,Bxb4,axb4,Qc4,Qd6,g3,h6,Qc6', 'Rd1+,Rxd1,Qxc6', 'https://lichess.org/training/BAzpG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bb0gY', 'Rapid', 'Abdennour-Djema', 1881, 'forsanissam', 2078, 'd4,g6,c4,Bg7,Nc3,c5,Nf3,cxd4,Nxd4,Nc6,e3,Qb6,Nb3,d6,Be2,Nf6,O-O,O-O,e4,Be6,Be3,Qc7,Rc1,a6,Nd5,Qd8,f3,Bxd5,cxd5,Ne5,Qd2,Rc8,h3,b5,Nd4,Nc4,Bxc4,Rxc4,Nc6,Qc7,Rxc4,bxc4,Rc1,Qb7,Rxc4,Nh5,Rb4,Qc7,Rb6,Ng3,Rxa6,e6,Ra7,Qc8,Ne7+,Kh8,Nxc8,Rxc8,Kh2,Nf1+,Kg1,Nxd2,Bxd2', 'Bd4+,Kf1,Bxa7', 'https://lichess.org/training/Bb0gY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BB0Ki', 'Blitz', 'MylesDray', 1575, 'Juninho-ballack', 1542, 'Nf3,d5,e4,dxe4,Ng5,Bf5,Bc4,e6,Nc3,Qxg5,O-O,Nc6,d3,Qf6,dxe4,Bg4,Qxg4,O-O-O,Qe2,Nd4,Qd2,Nf3+,gxf3,Rxd2,Bxd2,Qg6+,Kh1,Qf6,Be3,Qxf3+,Kg1,b6,Rad1,Nf6,Rd3,Qh5,Rfd1,Bd6,Bf4,Bxf4', 'Ba6+,Kb8,Rd8+,Rxd8,Rxd8#', 'https://lichess.org/training/BB0Ki');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bb2kR', 'Rapid', 'koray26', 1633, 'Badlanguageboi', 1631, 'd4,d5,Bf4,Nf6,e3,Bf5,Bd3,e6,Nc3,Bb4,Ne2,Nc6,a3,Bxc3+,Nxc3,O-O,Bxf5,exf5,O-O,Ne4,Qd3,g5,Bg3,Nxc3,Qxc3,h5,f4,h4,Be1,g4,Qd3,Qf6,c4,Rad8,c5,Rfe8,Bd2,g3,hxg3', 'hxg3,Be1,Qh4,Bxg3,Qxg3', 'https://lichess.org/training/Bb2kR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bb2oS', 'Rapid', 'Sergey_Vorozhtsov', 1675, 'skybuilder2', 1861, 'e4,c5,Nf3,e6,Bc4,d5,exd5,exd5,Qe2+,Be7,Bb5+,Bd7,Bxd7+,Nxd7,O-O,Kf8,Nc3,Nb6,d3,Bf6,Rb1,Ne7,Ne5,Nc6,Nxc6,bxc6,Nd1,g6,Ne3,Kg7,Ng4,Bg5,Qe5+,f6,Bxg5,fxe5,Bxd8,Raxd8,Nxe5,Rc8,b3,Rhf8,a4,Rf5,Nf3,Nd7,c3,Ne5,Nxe5,Rxe5,Rfe1,Rce8,Rxe5,Rxe5,d4,cxd4,cxd4,Re4,b4,Rxd4,b5,cxb5,axb5,Rc4,g3,d4,g4,d3,g5', 'd2,Rd1,Rc1', 'https://lichess.org/training/Bb2oS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bb7Yf', 'Rapid', 'syl94563', 1950, 'horosam', 1880, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,e3,axb5,Bxb5,Ba6,Bxa6,Nxa6,Nf3,Nb4,O-O,Nbxd5,Nc3,Nxc3,bxc3,g6,a3,Bg7,Bb2,O-O,Qc2,Qb6,Rab1,Rfb8,h3,Ra5,Ba1,Rb5,Rxb5,Qxb5,a4,Qb7,a5,Qa7,Qa4,d6,Nd2,Nd5,Rc1,Ra8,Nc4,Nc7,Qc6,d5,Nb6,Rb8,Nd7,Ra8,Nxc5,Qxa5,Nb7,Ra6', 'Nxa5,Rxc6,Nxc6', 'https://lichess.org/training/bb7Yf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BB8BL', 'Blitz', 'sonkisot21', 1651, 'aminmb', 1707, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d4,exd4,e5,d5,exf6,dxc4,fxg7,Rg8,Re1+,Be6,Bg5,Qd7,Bf6,Be7,Bxd4,Nxd4,Nxd4,O-O-O,c3,Rxg7,Nd2,Rdg8,g3,Bc5,Nxe6,fxe6,Nxc4,Qf7,Qe2,Kb8,Ne5,Qf5,Rad1,Rxg3+,hxg3', 'Rxg3+,Kf1,Qh3#', 'https://lichess.org/training/BB8BL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bB8qt', 'Rapid', 'digory101', 1866, 'ken4649', 1937, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bg5,Bd6,Nc3,c6,Qd2,O-O,O-O-O,Bg4,h3,Bh5,g4,Bg6,Ne5,Nbd7,Nxg6,hxg6,f4,Qc7,Be2,Ne4,Nxe4,dxe4,h4,Nf6,Bxf6', 'Bxf4,Be5,Bxd2+', 'https://lichess.org/training/bB8qt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bb9cs', 'Rapid', 'dooha222', 1805, 'mathijshuis', 1805, 'd4,d5,c4,c6,Nc3,Nf6,Bg5,Bf5,e3,Nbd7,cxd5,cxd5,Nf3,e6,Bb5,Be7,Ne5,Bg4,Qa4,O-O,Nxd7,Ne4,Bxe7,Qxe7,Nxe4,dxe4,O-O,a6,Bc4,b5,Bxb5,axb5,Qxb5,Rfd8,Ne5,Rab8,Qa4,Be2,Nc6,Qd7,Rfc1,Bb5,Qa7', 'Bxc6,Qxd7,Bxd7', 'https://lichess.org/training/bb9cs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bBb4p', 'Rapid', 'Reyes10', 1621, 'Ricardo-Frederico', 1562, 'd4,e6,e4,Nf6,Nc3,Bb4,Bd2,Bxc3,Bxc3,Nxe4,Qf3,Nxc3,bxc3,O-O,Bd3,Qg5,Nh3,Qh6,O-O,d5,Rae1,Nd7,Nf4,Nf6,Re5,Bd7,Rfe1,a6,R1e3,Bb5,Nh5,Bxd3,Nxf6+,Qxf6,cxd3,Qxf3,Rxf3,c6,Rh5,b5,g4,b4,cxb4,a5,bxa5,Rxa5,Rfh3,h6,g5,Rxa2,gxh6,g6,R5h4,Kh7,f4,Rg8,Rg3,f6,Re3,g5,fxg5,Rxg5+,Kf1,Ra1+,Ke2,Rg2+,Kf3,Rg5,Rxe6,Rf5+,Kg4,Rg5+,Kf4', 'Rf1+,Ke3,Re1+,Kd2,Rxe6', 'https://lichess.org/training/bBb4p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BbbwZ', 'Rapid', 'kwhitechess', 1797, 'kyruchtchyk88', 1820, 'e4,c5,Nf3,Nc6,g3,e6,Bg2,d5,exd5,exd5,d3,Nf6,O-O,Bd6,Re1+,Be6,Ng5,Ne5,Bf4,Qc7,c3,O-O,d4,Ng6,Bxd6,Qxd6,dxc5,Qxc5,b4,Qc8,Qd3,h6,Nxe6,Re8,Na3,Rxe6,Rxe6,Qxe6,Nb5,Qc6,Nd4,Qc4,Qxc4,dxc4,Bxb7,Rb8,Ba6,Nd5,Rc1,Ne5,f4,Nd3,Rc2,Re8,Bxc4', 'Re1+,Kg2,Ne3+', 'https://lichess.org/training/BbbwZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BBchZ', 'Blitz', 'CraZyAlchemist', 2536, 'CM Kingscrusher-YouTube', 2394, 'e4,g6,d4,Bg7,Nf3,c5,d5,d6,Nc3,Nf6,Bd3,O-O,h3,a6,a4,Ne8,O-O,Nc7,Nd2,Nd7,Nc4,Rb8,a5,b5,axb6,Nxb6,Na5,Bd7,Be3,e5,Qd2,f5,Bh6,f4,Bxg7,Kxg7,f3,g5,b3,h5,Nd1,Rf6,Nf2,Rg6,Be2,Nb5,c3,Qf6,Nc6,Bxc6,dxc6,Nc7,Rfd1,Rd8,Bxa6,Ne6,Bf1,g4,fxg4,hxg4,Nxg4,Rxg4,hxg4,f3,Ra7+,Kg6,Qf2,Rh8,Rxd6,Nc8,Rad7,Nxd6,Rxd6,fxg2,Qxf6+,Kxf6,Bxg2,Ke7,Rd7+,Ke8,Bf1,Rg8,Be2,Nf4,Bf3,Rg6,Rd5,Rxc6,Rxe5+,Kd8,Rf5,Ne6,Rd5+,Ke7,e5,Ra6,b4,cxb4,cxb4,Ra2,b5,Rb2,Kf1,Nf4,Rc5,Ne6,Rc6,Nd4,Rc3,Nxb5,Re3,Nd4,Be4,Ne6,Bf5,Ng5,Rd3,Rb1+,Ke2,Rb2+,Kd1,Nf3,Rd7+,Ke8,e6,Ne5,Ra7,Rh2,g5,Rh1+,Kd2,Rh2+,Ke3,Rh1,Kf4,Re1,g6,Nc6,Kg5,Nxa7,Kf6,Rf1', 'g7,Rg1,Bg6+,Rxg6+,Kxg6,Nc6,g8=Q+', 'https://lichess.org/training/BBchZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BbE48', 'Rapid', 'bubbee', 1900, 'Aldepoki', 1983, 'e4,c6,Qf3,d5,e5,e6,d4,c5,Ne2,Nc6,c3,Qb6,b3,cxd4,Nxd4,Nxe5,Qe3,Bd6,Nb5,Nd7', 'Qxb6,axb6,Nxd6+', 'https://lichess.org/training/BbE48');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bbe8Z', 'Blitz', 'GM Crest64', 2490, 'FM Manafov_Vugar', 2306, 'd4,Nf6,c4,e6,Nc3,b6,e4,Bb7,Bd3,Bb4,f3,O-O,Ne2,d6,O-O,e5,d5,Nbd7,Be3,a5,Qd2,h6,a3,Bc5,Rab1,Bxe3+,Qxe3,a4,Bc2,Nc5,Nb5,Nh5,Nec3,Qe7,g3,g5,Rbe1,Ba6,Qd2,Bxb5,Nxb5,f6,Nc3,Rf7,Qd1,Ng7,Nxa4,Nxa4,Bxa4,f5,exf5,Rxf5,Bc2,Rf6,Qd3,Raf8,Qh7+,Kf7,f4,gxf4,gxf4,Ke8,fxe5', 'Rxf1+,Rxf1,Qg5+,Kh1,Rxf1#', 'https://lichess.org/training/bbe8Z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BbECB', 'Rapid', 'Bozagan', 1838, 'Kazakh_Fighter', 2169, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Nxd7,d4,cxd4,Nxd4,g6,c4,Bg7,Nc3,Ngf6,O-O,O-O,b3,Nc5,f3,Rc8,Nd5,Nxd5,exd5,Qb6,Be3,e5,dxe6,Nxe6,Nf5,Qc7,Nxg7,Kxg7,Bxa7', 'b6,Bxb6,Qxb6+', 'https://lichess.org/training/BbECB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bbgZ4', 'Blitz', 'Dorst', 1621, 'Kuryuk', 1598, 'd4,e5,dxe5,Nc6,Nf3,Qe7,e3,Nxe5,Nxe5,Qxe5,Bd2,Qxb2,Nc3,Bb4,Rb1,Qa3,Rb3,Qa5,Be2,Nf6,O-O,O-O,Bd3,Bxc3,Bxc3,Qg5,f4,Qh6,e4,d6,f5,Nd7,Bd2,Qf6,Rf3,Ne5,Rh3,Bd7,Bc3,Qe7,Qh5,h6,Bxe5,Qxe5,Kf2,Qa1,Rxb7,Rac8,Rxa7,Qd4+,Kf3,Qxa7,Rg3,Kh7,f6,g6,Qh4,Qxa2,e5,Qe6,Rh3,h5,Qg5,Qxe5,Rxh5+,Kg8', 'Rh8+,Kxh8,Qh6+,Kg8,Qg7#', 'https://lichess.org/training/bbgZ4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BBhTx', 'Rapid', 'jdfx', 1815, 'RipperRioja', 1814, 'e4,d5,exd5,Nf6,c4,e6,dxe6,Bxe6,b3,Qd4,Nc3,Ne4,Qf3,Bc5,Qxe4,Qxf2+,Kd1,Qxf1+,Kc2,O-O,Bb2,Bf5', 'Rxf1,Bxe4+,Nxe4', 'https://lichess.org/training/BBhTx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BbkAi', 'Blitz', 'ClubBacau0735520875', 1802, 'izetmember', 1884, 'e4,c5,Nc3,Nc6,Bc4,e6,Qe2,Nge7,a3,a6,Nf3,g6,d3,Bg7,Be3,d5,exd5,exd5,Bxc5,dxc4,dxc4,Be6,Ng5,O-O,Nxe6,fxe6,Qxe6+,Kh8,O-O,Rf6,Qe2,Qc7,Nd5,Nxd5,cxd5,Na5,b4,b6,Bd4,Nc4,Rfe1,Rf7,Qe8+,Rxe8', 'Rxe8+,Rf8,Rxf8#', 'https://lichess.org/training/BbkAi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BblJd', 'Rapid', 'kkhaledsakr', 1718, 'Turnaroundjumper', 1642, 'e4,e5,f4,Nc6,Nf3,d6,fxe5,Bg4,exd6,Bxd6,Bc4,f6,O-O,Bc5+,Kh1,Qd7,c3,Ne5,Nxe5,fxe5,Qe1,O-O-O,d4,Bd6,Rf7,Ne7,Rxg7,h5,Bg5,Rde8,Qh4,Rhf8,Na3,Qa4,Bb5,Qa5,Bxe8,Rxe8,dxe5,Qxe5,Rxe7,Bxe7,Bxe7,Rxe7,h3,Bd7,Re1,Re8,Nc4,Qe6,b3,b5,Nd2,Qh6,Nf3,Qh8,e5,Qg8,Nd4,Qd5,Qxh5,Rg8,Nf3,Qd3,e6,Bxe6,Rxe6', 'Qf1+,Kh2,Qxg2#', 'https://lichess.org/training/BblJd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bblmM', 'Rapid', 'ComBinaural', 1763, 'alik-geriev', 1843, 'd4,d5,Nf3,Nf6,e3,e6,Bd3,b6,O-O,Ba6,Bxa6,Nxa6,Nbd2,Bd6,c3,c5', 'Qa4+,Qd7,Qxa6', 'https://lichess.org/training/bblmM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bbLyP', 'Rapid', 'javed-8168', 1703, 'a_ferreira', 1713, 'e4,e5,Nf3,Nc6,Be2,Nf6,Nc3,Bb4,d3,d5,exd5,Nxd5,Bd2,O-O,O-O,Bf5,Nxd5,Qxd5,Be3,f6,a3,Bc5,b4,Bd4,c4,Qd7,Rb1,Bxe3,fxe3,Rad8,e4,Bg6,Nh4,Bf7,Nf5,Nd4,Nxd4,Qxd4+,Kh1,a6,Qe1,Be8,Qg3,Ba4,Rf5,Bc2,Rbf1,Bxd3,Bxd3,Qxd3,Qh4,g6,R5f3,Qe2,Rxf6', 'Qxf1+,Rxf1,Rxf1#', 'https://lichess.org/training/bbLyP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BBMe2', 'Rapid', 'Harav-Shach', 1651, 'Touraj987', 1649, 'e4,d6,d4,g6,Nf3,Bg7,Bf4,Nf6,e5,Nd5,Bg3,O-O,exd6,exd6,Nc3,Nxc3,bxc3,Re8+,Be2,Qe7,Bh4,f6,Nd2,Bg4,f3,Bf5,Kf2,Bxc2', 'Bc4+,Kf8,Qxc2', 'https://lichess.org/training/BBMe2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bbmju', 'Rapid', 'Violate', 1794, 'Kostya62', 2008, 'd4,e6,Bf4,Nf6,e3,c5,c3,Nc6,Nf3,Be7,Nbd2,O-O,Bd3,a6,Qc2,h6,h4,cxd4,exd4,d5,O-O-O,Bd6,Ne5,Nh5,Bh2,Bxe5,dxe5,Qxh4,Bg3,Qg5,Bh4,Qxe5,Nf3,Qf4+,Kb1,Nf6,Qe2,Ne4,Ka1,b5,g3,Qf5,Rh2,Bb7,Nd2,Rad8,f3,Ne5,fxe4,dxe4,Bb1,g5,Rf1,Qg6,Nxe4,f5,Nc5,Be4,Nxe4,fxe4,Bxe4', 'Rxf1+,Qxf1,Qxe4', 'https://lichess.org/training/Bbmju');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BbnD5', 'Rapid', 'Smackdowntime', 1879, 'Kevanym', 1857, 'd4,b6,c4,Bb7,Nc3,Nc6,e3,e5,Nf3,exd4,Nxd4,Nxd4,Qxd4,Qf6,Qxf6,Nxf6,a3,O-O-O,b4,d5,Rg1,dxc4,Bxc4,Nd5,Nxd5,Bxd5,Ba6+,Kb8,Bb2,f6,Rd1,Be7,Rd4,c5,Rg4,g5,e4,Be6,Rg3,cxb4,Ke2,bxa3,Bxa3,Bxa3,Rxa3,Rd4,f3,Rhd8,Ke3,Rd1,Rxd1,Rxd1,Bd3,Rg1,g3,Rg2,e5,fxe5,Ke4,Rxh2,Kxe5,Bc8,Rc3,Rh3', 'Rxc8+,Kxc8,Bf5+,Kd8,Bxh3', 'https://lichess.org/training/BbnD5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bbNTH', 'Rapid', 'lanich', 1645, 'MAPRMAR', 1765, 'd4,e6,c4,Nf6,Nc3,d5,Bf4,dxc4,e3,Bb4,Qa4+,Nc6,Bxc4,Bxc3+,bxc3,O-O,Nf3,a6,Qc2,b5,Bd3,b4,Ng5,bxc3,Bxh7+,Kh8,Bd3,Nb4,Qb1,Nxd3+,Qxd3,g6,Be5,c5,e4,cxd4,Bxf6+,Qxf6', 'Qh3+,Kg7,Qh7#', 'https://lichess.org/training/bbNTH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BBNXL', 'Rapid', 'msh7', 1987, 'aduhamel', 1917, 'e4,e5,Bc4,Nf6,d3,c6,h3,d5,exd5,cxd5,Bb3,Nc6,Bg5,h6,Bh4,Bb4+,c3,Bc5,Ba4,O-O,b4,Bd6,Bb3,Bf5,Nd2,g5,Bg3,d4,b5,dxc3,Nc4,Bb4,Bc2,Nd4,Ne2,Nxc2+,Qxc2,Bxd3,Qb3,Bxc4,Qxc4,Qd2+,Kf1,c2,Rc1,Qd1+,Rxd1', 'cxd1=Q#', 'https://lichess.org/training/BBNXL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bbo9l', 'Rapid', 'LC_Guren', 1705, 'Hennderson', 1675, 'e4,d5,Nf3,dxe4,Ng5,Nf6,d3,exd3,Bxd3,h6,Nxf7,Kxf7,Bg6+,Kxg6,Qxd8,Bd7,Qxc7,Bc6,O-O,Nbd7,f4,e6,b4,Bxb4,c3,Bc5+,Kh1,Ne4,a4,Rac8,Qa5,Nf2+,Rxf2,Bxf2,Nd2,Nf6,Nf3,Rhd8,Ne5+,Kh7,Ba3,Bd5,Be7,Re8,Bxf6,gxf6,Ng4,Bh4,Kg1,f5,Ne5,Rxc3,Qxc3,Bf6,Qc7+,Re7,Qa5,Rg7,g3,h5,Qxa7,h4,Qf2,hxg3,hxg3,Kg8,a5,Rh7,Qd4,Rh1+,Kf2,Rh2+,Ke3,Rg2,Qc5,Rxg3+,Kd4,Be4,Qc8+,Kh7,Rh1+,Bxh1,Qd7+,Bg7,Qxe6,Be4,Kc5,Rc3+,Kb4,Rc2,Qg6+,Kg8,Qf7+,Kh7,Qg6+,Kg8,Qd6', 'Bf8,Qxf8+,Kxf8', 'https://lichess.org/training/Bbo9l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BBOGQ', 'Rapid', 'diskborste', 1916, 'tolbah2', 1960, 'e4,e6,d4,d5,Nc3,dxe4,Nxe4,f5,Ng3,Nf6,Bd3,Bd6,Nh5,g6,Nxf6+,Qxf6,Nf3,Bd7,Bg5,Qg7,O-O,h6,Be3,Nc6,c4,f4,c5,fxe3,cxd6,exf2+,Rxf2,cxd6,Bb5,O-O,Rf1,a6,Bc4,b5,Bb3,Na5,Re1,Nxb3,axb3,Rae8,Rxa6,Qe7,Qd3,Kg7,d5,e5,Nd4,e4,Qc3,Qf6,Rxd6', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/BBOGQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BbPd8', 'Blitz', 'Markusz97', 1716, 'sirisiri', 1800, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,Nf3,Bg4,Bg5,e6,Nbd2,h6,Bf4,Qb6,Rb1,Nc6,c3,Be7,h3,Bh5,O-O,O-O,Qc2,Rac8,a3,g5,Be5,Bxf3,Nxf3,Nxe5,Nxe5,Qc7,f4,Nd7,fxg5,hxg5,Bh7+,Kg7,Rxf7+,Rxf7', 'Qg6+,Kh8,Nxf7#', 'https://lichess.org/training/BbPd8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bbPwH', 'Rapid', 'AEG97', 1877, 'selbino', 1843, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Ne5,Bf4,Ng6,Bg3,a6,Bc4,Bc5,Qf3,Qe7,Nf5,Qf8,Bxc7,d5,b4,Ba7,Bd6,N8e7,exd5,Bxf5,O-O,Bb8,Bc5,b6,Bxb6,Bxc2,Re1,Ne5,Qc3,Bxb1,Raxb1,N7g6,Rbd1,Qe7,Bc5,Bd6,f4,Nxf4,Rxe5,Qxe5', 'Re1,Qxe1+,Qxe1+', 'https://lichess.org/training/bbPwH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bbRgh', 'Blitz', 'MustaParooni', 2315, 'CM realPioneer', 2402, 'd4,d5,Nf3,Nf6,e3,Bf5,Bd3,Bxd3,Qxd3,a6,O-O,e6,b3,Be7,c4,c5,Nbd2,O-O,Bb2,cxd4,exd4,dxc4,bxc4,Nc6,Rac1,Qb6,Ba1,Rfd8,Ne4,Qa5,Bc3,Qf5,Nxf6+,Qxf6,d5,Qh6,Qe4,Nb4,dxe6,Nxa2,exf7+,Kf8,Rc2,Nxc3,Rxc3,Kxf7,Qxb7,Rab8,Ne5+,Ke8,Qe4,Rb2,Rh3,Qd2,Rxh7,Qe2,Rh8+,Bf8,Qc6+,Ke7,Ng6+,Kf7,Rxf8+,Rxf8,Nh4,Kg8,Qd5+,Kh8', 'Ng6+,Kh7,Nxf8+', 'https://lichess.org/training/bbRgh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bbrt6', 'Rapid', 'Abdurasulov', 1743, 'renny2016', 1739, 'd4,d5,Bf4,c6,c3,Bf5,Nf3,e6,e3,Nf6,Bd3,Bg6,Qe2,Bd6,Bg3,O-O,Nbd2,Bxg3,hxg3,Nbd7,O-O,h5,e4,Ng4,Rfe1,dxe4,Nxe4,Ndf6,Rad1,Nxe4,Bxe4,Bxe4,Qxe4,Qf6,c4,Rad8,b3,Rfe8,Ne5,Nxe5,Qxe5,Qxe5,Rxe5,g6,Re4,f5,Re3,c5,d5,Rd6,Rde1,Kf7,Kh2,g5,f3,Kf6,Kh3,e5,g4,h4,g3,f4,gxf4,gxf4,Re4,Rd7,Rxf4+,exf4,Rxe8,b6,Rh8,Re7,Rxh4,Re3,Kg2,Re2+,Kh3,Rxa2,Rh7,Ra3,Rh6+,Ke7,Re6+,Kd7,Re4,Rxb3,Rxf4,a5,Rf7+,Kd6,Kg3,a4,Ra7,a3,g5,Rd3,g6,Re3,g7,Re8,Rxa3,Rg8,Ra7,b5,cxb5,c4,b6,c3,b7,c2,Ra8', 'Rxg7+,Kf2,Rxb7', 'https://lichess.org/training/bbrt6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BBS5t', 'Rapid', 'reymos01', 1724, 'bover', 1689, 'd4,Nf6,c4,e6,Nc3,Bb4,Bg5,c5,a3,Bxc3+,bxc3,b6,e4,h6,Bh4,g5,Bg3,Nxe4,Qd3,Bb7,f3,Nxg3,hxg3,cxd4,cxd4,Nc6,d5,Qf6,Rd1,Ne5,Qd4,O-O,f4,gxf4,gxf4,d6,fxe5,dxe5,Qg4+,Kh7,Bd3+,Kh8,dxe6,Bxg2,Qxg2,e4,Bxe4,Qc3+,Qd2,Qg3+,Qf2,Qc3+,Rd2,Qc1+,Rd1,Qc3+,Qd2,Qg3+,Kf1', 'fxe6+,Nf3,Rxf3+,Bxf3,Qxf3+', 'https://lichess.org/training/BBS5t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BBs8K', 'Classical', 'Talaat-elthawy', 1940, 'Amar01', 1756, 'c4,Nf6,Nc3,g6,e4,d6,d4,Bg7,Be3,Nbd7,f3,c6,Qd2,Qc7,Bd3,e5,Nge2,exd4,Nxd4,a6,O-O,O-O,Rfd1,Ne5,Rac1,Be6,b3,Rad8,Bf1,Qa5,Qf2,c5,Nxe6,fxe6,Qd2,Nh5,Be2,Nc6,f4,Nxf4,Bxf4,Bxc3,Rxc3,Rxf4,Qxf4,Qxc3,Rf1,Qg7,Bg4,Nd4,h3,b5,cxb5,axb5,e5,dxe5,Qe4,h5,Bd1,c4,bxc4,bxc4,Re1,c3,Re3,Nf5,Re1,Qc7,Bb3,Kh7,Qxe5,Qxe5,Rxe5,Rd2,Rc5,Ne3,Rxc3,Nxg2,Bxe6,Nf4,Bb3', 'Ne2+,Kg2,Nxc3+', 'https://lichess.org/training/BBs8K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BbTtw', 'Blitz', 'NM LentoViolento2020', 2259, 'fuegodejavu', 2239, 'd4,c5,dxc5,e5,e4,Bxc5,Nf3,Nc6,Bc4,Nf6,Nc3,Ng4,O-O,O-O,Ng5,Nxf2,Rxf2,Bxf2+,Kxf2,Qb6+,Kf1,h6,Nf3,d6,Nd5,Qd8,Be3,Be6,Kg1,f5,exf5,Rxf5,Qe2,Na5,b3,Nxc4,bxc4,Rc8,Rd1,Qf8,Bxa7,Ra8,Qe3,Bxd5,Rxd5,Qf6,a4,Qe7,a5,b5,axb6,Qb7,Qd3,Rf4,Nd2,Rxa7,bxa7,Qxa7+,Kh1', 'Qa1+,Nb1,Qxb1+,Qd1,Rf1+,Qxf1,Qxf1#', 'https://lichess.org/training/BbTtw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bBU72', 'Rapid', 'Marcos20-08', 1694, 'Bernuella-uchiha', 1988, 'e4,c5,Nf3,Nc6,Nc3,e6,d3,Nf6,Be3,Be7,Be2,O-O,O-O,d6,Qd2,a6,d4,cxd4,Nxd4,e5,Nf5,Bxf5,exf5,Qd7,Bd3,Nb4,Ne4,Nxe4,Bxe4,d5,c4,d4,Bg5,Nc6,Bxe7,Nxe7,Qg5,f6,Qg4,Kh8,Rad1,Rad8,Rd3,g5,Rh3,Qe8,Rd1,b6,Rdd3,Qf7,b3,a5,Bd5,Nxd5,cxd5,Qxd5,Qh5,Qf7,Qg6,Qxg6,fxg6,Kg7,Rxh7+,Kxg6,Rdh3,Rc8,g4,f5', 'R3h6#', 'https://lichess.org/training/bBU72');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bbuum', 'Rapid', 'EvgenoyZverev', 1712, 'Hyperphrenia', 1642, 'd4,Nf6,c4,e6,Nc3,Bb4,Nf3,O-O,g3,c5,a3,Bxc3+,bxc3,cxd4,cxd4,d5,e3,b6,Bg2,Bb7,Bb2,Nbd7,O-O,dxc4,Rc1,Rc8,a4,Ba6,Nd2,c3,Rxc3,Rxc3,Bxc3,Bxf1,Qxf1,e5,Nc4,exd4,Bxd4,Qc7,h4,Rc8,Nd2,Nc5,Kh2,Nxa4,Nf3,Qc1,Qd3,Qc4,Qf5,Qe6,Qg5,h6,Qf4,Nc5,Bh3,Nh5', 'Bxe6,Nxf4,Bxc8', 'https://lichess.org/training/Bbuum');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BBVm1', 'Classical', 'HenryKadari', 1802, 'thewallachian', 1863, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,O-O,Nge7,Be3,Bd6,Nc3,a6,a3,O-O,Nh4,Kh7,Qg4,Bxa3,bxa3,d5,Qe2,dxc4,dxc4,Nd4,Bxd4,exd4,Na4,Nc6,Nf3,Bg4,Qd3,Bxf3,Qxf3,Ne5,Qf5+,Ng6,Nc5,Qg5,Nd7,Rfe8,Qxf7,Re7,Qf5,Qxf5,exf5,Rxd7,fxg6+,Kxg6,f4,c5,Rf3,Re8,Kf2,Rde7,Rc1,Re2+,Kf1,Kf5,c3,R2e4,cxd4,Rxd4,g3,Kg4,Rf2,Re3,Ra2,Rdd3,a4,b6,Kg2,g5,h3+,Kf5,g4+,Kxf4,Rf1+,Ke5,Rf5+,Ke6,Raf2,Rg3+,Kf1,Rxh3,Rf6+,Ke5,R2f5+,Kd4,Rd5+,Kxc4,Rxd3,Kxd3,Rxb6,a5', 'Rb3+,Kd2,Rxh3', 'https://lichess.org/training/BBVm1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bBwc5', 'Blitz', 'Noblesse246', 1758, 'Chief4182', 1510, 'd4,d5,c4,Bf5,Nc3,Nf6,Nf3,e6,Bg5,Nbd7,Ne5,Be7,e3,Nxe5,dxe5,Ne4,Bxe7,Kxe7,Nxe4,dxe4,Be2,Qxd1+,Rxd1,Rad8,O-O,Rxd1,Rxd1,Rd8,Rd4,Rxd4,exd4,Kd7,b4,f6,h4,h6,g4,Bh7,g5,hxg5,hxg5,fxe5,dxe5,Bg6,Kf1,b6,Ke1,Ke7,Kd2,Kf7,a4,Bf5,f3', 'exf3,Bxf3,Kg6,Ke3,Kxg5', 'https://lichess.org/training/bBwc5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bBXIU', 'Bullet', 'tomseeber', 2069, 'leouchile', 2021, 'e4,c5,b4,cxb4,a3,d5,exd5,Qxd5,Nf3,e5,axb4,Bxb4,Bb2,Nc6,c3,Bc5,Be2,Nf6,O-O,O-O,d4,exd4,cxd4,Bb4,Nc3,Bxc3,Bxc3,Bg4,h3,Bh5,Rb1,b6,Rb5,Qd6,d5,Bxf3,Bxf3,Ne5,Bb4,Nxf3+,Qxf3,Qd7,Bxf8,Qxb5,Be7,Qxd5,Qg3,Qe6,Ba3,a5,Bb2,Re8,Rd1,g6,Rd6,Qe1+,Kh2,Ne4,Qf4,Nxd6,Qf6,Kf8,Qg7+,Ke7,Qf6+,Kd7,Bc3,Qe6,Qd4,Kc8,Qxb6,Kd7,Qa7+,Kd8', 'Bxa5+,Kc8,Qc7#', 'https://lichess.org/training/bBXIU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bBXpI', 'Rapid', 'jericelysean', 1884, 'xxjanixx', 1891, 'e4,g6,d4,Bg7,Be3,e6,Qd2,d6,f3,a6,a3,b5,Bd3,Bb7,Nc3,Nd7,Nge2,Rc8,Ng3,Ne7,h4,h6,O-O-O,O-O,Bxh6,c5,dxc5,Nxc5,Bxg7,Kxg7,Na2', 'Nb3+,Kb1,Nxd2+', 'https://lichess.org/training/bBXpI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bbyRz', 'Rapid', 'Worf2', 2249, 'zemberek34', 1921, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,h6,Nbd2,d6,Nf1,Be6,Bb3,Bxb3,Qxb3,Bb6,Ng3,g6,O-O,Qd7,Be3,O-O-O,Bxb6,axb6,Qa4,Na5,Qc2,Kb8,a4,Nc6,b4,Ne7,a5,bxa5,Rxa5,Nc6,Ra2,Qe6,Qa4,Kc8,b5,Nb8,c4,Nfd7,Rfa1,Nb6,Qb4,f5,Ra7,fxe4,Nxe4,d5,Nc5,Qd6,Rxb7,dxc4,Raa7,Rh7,dxc4,Qd1+,Ne1,Rd2,h4', 'Qxe1+,Kh2,Qxf2,Qxd2,Qxd2', 'https://lichess.org/training/bbyRz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bbzln', 'Rapid', 'aalmeida', 1923, 'pavagyan72', 1687, 'e4,c5,Nc3,Nc6,g3,d6,Bg2,e5,Nge2,f5,exf5,Bxf5,O-O,Nf6,Nd5,Nxd5,Bxd5,Qd7,d3,Bg4,Qd2,O-O-O,a3,Be7,b4,h6,bxc5,Bg5,Qc3,Bxe2,Re1,Bg4,Rb1,Be6,Bxe6,Qxe6,f4,Nd4,cxd6+,Kb8,fxg5,Nf3+,Kh1,Nxe1', 'Qc7+,Ka8,Qxb7#', 'https://lichess.org/training/Bbzln');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BBZmO', 'Rapid', 'hmgong', 1743, 'Shootertheman', 1726, 'd4,d5,c4,e5,Nc3,Nc6,cxd5,Nxd4,Nf3,Nxf3+,exf3,Nf6,Bg5,Bf5,Be2,Bb4,Bxf6,Qxf6', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/BBZmO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BbznG', 'Blitz', 'raggas', 2200, 'GM Elda64', 2698, 'g3,d5,Bg2,c6,d4,Nf6,c4,Bf5,cxd5,cxd5,Nc3,e6,Nf3,Nbd7,O-O,Be7,Bf4,O-O,Rc1,h6,Ne5,Nxe5,Bxe5,Nd7,Bf4,a6,h4,b5,a3,Rc8,e3,Nb6,h5,Nc4,Qe2,Bh7,g4,Qb6,Nb1,f5,Nd2,Nxd2,Qxd2,fxg4,b4,Rc4,Qe2,Bf5,e4,Rxc1,Rxc1,dxe4,Be3,Qd6,Qd2,Qd8,Qc3,Bf6,Qc5,Kh8,Rd1,Bg5,Qc6,Bxe3,fxe3,Qg5,Re1,Qh4,Re2,g3,Qd6,Rf6,Bh1,Bg4,Rg2,Qxh1+,Kxh1', 'Rf1+,Rg1,Bf3#', 'https://lichess.org/training/BbznG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bC07u', 'Rapid', 'CM trollonga', 2192, 'Mange72', 1941, 'e4,e5,Nf3,Nf6,d4,Nxe4,dxe5,d5,Bd3,Nc5,Be2,Be7,Be3,Ne6,Nc3,c6,Nd4,O-O,Nf5,Bg5,Nd4,Nf4,Bxf4,Bxf4,g3,Bxe5,f4,Bxf4,gxf4,Qh4+,Kf1,Qxf4+,Bf3,Bh3+,Kf2,Qh4+,Kg1,Nd7,Qd2,Ne5,Qf2,Qxd4,Bg2,Qxf2+,Kxf2,Bxg2,Kxg2,Rae8,Rae1,Nc4,Nd1,f6,b3,Nd6,Ne3,Re7,Ng4,Rfe8,Rxe7,Rxe7,Kf2,Ne4+,Kf3,Nc3,Ne3,g6,Rg1,Kf7,a4,Ne4,h4,Nd2+,Kf2,f5,Rd1,Ne4+,Kf3,Kf6,c4,dxc4,Nxc4,Re6,Rd7,Nc5,Rxh7,Nxb3,Rxb7,Nd4+,Kf2,Re2+,Kf1,Rc2,Ne3,Rc3,Kf2,Ke5,Rxa7,Kf4,Ng2+,Kg4,Rg7,Rc2+,Kg1,Nf3+,Kf1,Kh5', 'Rh7+,Kg4,Ne3+,Kg3,Nxc2', 'https://lichess.org/training/bC07u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bc0f4', 'Rapid', 'Mewza1', 1981, 'spacebar11', 1821, 'e4,d5,exd5,Nf6,Bb5+,Bd7,Bc4,Bg4,f3,Bf5,Nc3,Nbd7,Nge2,Nb6,Bb3,Nfxd5,O-O,Nxc3,Nxc3,Qd7,d3,O-O-O,Bf4', 'Qd4+,Rf2,Qxf4', 'https://lichess.org/training/Bc0f4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bc1Wg', 'Classical', 'NinjaArun', 1683, 'Silenc3', 1652, 'd4,d5,c4,e6,c5,c6,Bd2,Qd7,Nc3,Nf6,e3,a6,b4,b5,a3,g6,Qe2,Bg7,O-O-O,O-O,Nf3,Qc7,Ne5,Nbd7,f4,Re8,g4,Ne4,Nxe4,dxe4,g5,f5,gxf6,Nxf6,h4,Nh5,Bh3,Ng3,Qg4,Nxh1,Rxh1,Bxe5,fxe5,Re7,h5,Rg7,h6,Rf7,Qxe4,Rf5,Bxf5,exf5,Qh4,Be6,Rg1,Qf7,e4,fxe4,Qxe4,Bd5,Qe2,Re8,Rf1,Qe6,Rf6', 'Qxf6,exf6,Rxe2', 'https://lichess.org/training/bc1Wg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BC1Zs', 'Rapid', 'ArtashesGrigoryan', 1796, 'Gilkafka', 1625, 'e4,e5,Nc3,Nc6,f4,Nf6,Nf3,Bb4,fxe5,Ng4,Bc4,Bxc3,bxc3,O-O,O-O,Na5,Bb3,Nxb3,axb3,d6,d4,dxe5,Ra5,f6,Rd5,Qe7,dxe5,Nxe5,Nxe5,fxe5', 'Rxf8+,Qxf8,Rd8,Be6,Rxf8+', 'https://lichess.org/training/BC1Zs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bc5bA', 'Rapid', 'paulluedi', 1851, 'kerbol', 1886, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,Bf4,dxc4,Ne5,b5,g3,Bb7,Nf3,Qb6,Bg2,Nbd7,O-O,Be7,e4,O-O,h3,Rfd8,Be3,c5,d5,exd5,exd5,Nf8,Nh4,b4,Nf5,Bd6,Bg5,Be5,Na4,Qb5,Rb1,Bxd5,Bxd5,Rxd5', 'Ne7+,Kh8,Nxd5', 'https://lichess.org/training/Bc5bA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BC656', 'Classical', 'lollocat333', 1804, 'DuendeMate', 1730, 'd4,e6,e4,c6,c4,d5,cxd5,cxd5,e5,Bd7,Nc3,Bb4,Qc2,Nc6,Nf3,Nh6,Be2,Nf5,O-O,Ncxd4,Nxd4,Nxd4,Qd3,Bxc3,bxc3,Nf5,c4,Bc6,cxd5,Bxd5,Bb2,Nh4,g3,Qg5,Bc1,Qxe5,Qb5+,Kf8,Ba3+,Kg8,gxh4,Qe4,f3,Qe3+,Kg2,Qxa3,Rac1,h5,Rc7,Rh6,Qd7,Rg6+,Kf2,Rf8,Rfc1,Rf6,Rc8,Rxf3+,Bxf3,Qxf3+,Ke1,Qe3+,Kd1,Bf3+,Kc2,Rxc8+,Qxc8+,Kh7,Qc3,Be4+,Kb2,Qe2+,Ka1,Bd5,Qc2+,Qxc2,Rxc2,Kg6,Rf2,a6,Kb2,f5,a3,Kf6,Re2,g5,hxg5+,Kxg5,Kc3,Kf4,Kd4,Kf3,Re3+,Kg2,h4,Kf2,a4,Kg2,a5,Kf2,Rc3,Ke2,Re3+,Kd2,Rd3+,Kc2,Rc3+,Kb2,Rg3,Bb3,Rg5,Bd1,Ke5,Ka3,Kxe6,Bg4,Rg7,Ka4,Rxb7,Kxa5,Ke5,Ka4,Kf4,a5,Ra7,Kb5,Rb7+,Ka6,Rc7,a4,Rc3,Kb5,Rd3,Kb4,Rd4+,Kb3,Rd3+,Kb2,Rd2+,Kc3,Ra2,Kb3,Rd2,a3,Rd3+,Kb2,Rd2+,Kc3,Rf2,Kb4,Kg5', 'Kb3,Rg2,a2', 'https://lichess.org/training/BC656');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bC6eY', 'Rapid', 'Lunacia', 1637, 'gladiador66', 1710, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,d6,h3,Be7,c3,O-O,Bb3,a6,d3,Be6,Bc2,Qd7,Re1,Bd8,Nbd2,Ne7,Nf1,Ng6,Ng3,Nh5,Nxh5,Bxh3,gxh3,Qxh3,Ng3,Nf4,Bxf4,exf4,Nh1,f5,e5,dxe5,Nh2,Rf6,Qf3', 'Rg6+,Ng3,fxg3', 'https://lichess.org/training/bC6eY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bc6tJ', 'Rapid', 'FrostCamp', 1724, 'AL9000', 1716, 'd4,d5,Bf4,Bf5,e3,c6,c4,e6,a3,Qa5+,Qd2,Qxd2+,Nxd2,Nd7,Ngf3,Ngf6,h3,h6,cxd5,cxd5,Bb5,a6,Ba4,b5,Bb3,Bd3,Rc1,Be7,Rc3,Bg6,O-O,O-O,Rc7,Bd8,Rb7,Ba5,Bd6,Rfc8,Be7,Rab8,Ra7,Ra8,Rxa8,Rxa8,Bxf6,Nxf6,Rc1,Kf8,Ba2,Bh5,b4,Bd8,Ne5,Be2,f3,Ke7,Kf2,Bc4,Bb3,Nd7,a4,Bxb3,Nxb3,bxa4,Nxd7,Kxd7,Nc5+,Kd6,Nxa4,Rb8,Nc5,Rxb4,Nxa6,Rb2+,Kg3,Rb3,Nc5,Rb2,f4,Re2,Kf3,Rb2,Ra1,Bb6,Ra6,Kc6,Na4,Rb3,Nc5,Kb5', 'Rxb6+,Kxb6,Nxb3', 'https://lichess.org/training/Bc6tJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bcadE', 'Rapid', 'RgVeda', 2082, 'czechchess', 2077, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,c4,e6,Nc2,Nf6,Nc3,Be7,Bf4,b6,Be2,Bb7,O-O,O-O,f3,a6,Kh1,Rc8,b4,a5,a3,axb4,axb4,d5,cxd5,exd5,exd5,Nxb4,Nxb4,Rxc3,d6,Re8,dxe7,Qxe7,Bb5,Qxb4,Bxe8,Qxf4,Qd8,Rc8,Qe7,Bd5,Bd7,Qc7,Rac1,Qxd7', 'Qxd7,Nxd7,Rxc8+', 'https://lichess.org/training/bcadE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BcBVM', 'Blitz', 'FM Babay81', 2096, 'ricjimenez_50', 2370, 'e4,e5,Nf3,d6,Bc4,c6,d3,Be7,O-O,Nf6,Nc3,O-O,Bg5,Nbd7,h3,d5,exd5,cxd5,Bb3,e4,dxe4,dxe4,Nd4,h6,Bh4,Qb6,Nf5,Bb4,Qe2,Bxc3,bxc3,Ne5,Nd4,Re8,Bxf6,Qxf6,Qxe4,Rb8,Rfe1,Bd7,Nf3,Bc6,Bd5,Nxf3+,Qxf3,Bxd5,Qxd5,Rxe1+,Rxe1,Qxc3,Re7,Rf8,Qb3,Qc6,Rxb7,a6,a4,Qg6,Rb6,Qg5,Rxa6,Re8,Qc3,Rd8,Rc6,Rd1+,Kh2,Qf4+,Qg3,Qc1,Qb8+,Kh7,Qb3,Rh1+,Kg3,Qg5+,Kf3,Qf5+,Kg3,Qg5+,Kf3,Qf5+,Ke3', 'Re1+,Kd2,Qxf2+', 'https://lichess.org/training/BcBVM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bcDIu', 'Classical', 'teotessaro', 1605, 'Tareknabli', 1669, 'd4,Nc6,e4,Nf6,e5,Nd5,Nf3,e6,Bg5,Be7,c4,Ndb4,d5,Nxe5,Bd2,Nxf3+,Qxf3,Nc2+,Kd1,Nxa1,dxe6,dxe6,Nc3,Bg5,Ne4,Bh6,Kc1,f5,Bxh6,gxh6,Qh5+,Kd7,Nc5+,Kd6,Nd3,Qg5+,Qxg5,hxg5,c5+,Ke7,Ne5,b6,c6,Kd6,Nf7+,Kxc6,Nxh8,Bb7,Nf7,g4,h3,Kc5,hxg4,Be4,f3,Bd5,Kb1,fxg4,fxg4,Rf8,Rxh7,e5,g5,Bxf7,Bd3,Bc4', 'Rxc7+,Kd4,Bxc4', 'https://lichess.org/training/bcDIu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bcdTf', 'Rapid', 'olegnn14', 1721, 'KeksKat', 1801, 'e4,e5,a3,Nc6,h3,a5,Bc4,Bc5,d3,Nf6,c3,O-O,Bg5,d6,Qf3,a4,Bxf6,Qxf6,Qxf6,gxf6,Nf3,Ra5,O-O,b5,Bd5,Bd7,Nbd2,Ne7,b4,Ra6,bxc5,dxc5,Ba2,Rd6,d4,cxd4,cxd4,exd4,Rad1,Nc6,Nh4,Re8,Nf5,Bxf5,exf5,Re2,g4,Ne5,Bb1', 'Rxd2,Rxd2,Nf3+,Kg2,Nxd2', 'https://lichess.org/training/bcdTf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bCE6p', 'Bullet', 'gjeta', 2209, 'Zooparis', 2063, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Bb4,e5,h6,Bd2,Bxc3,bxc3,Ne4,Qg4,g6,Bc1,c5,Bd3,Qa5,Ne2,cxd4,Bxe4,dxe4,Qxe4,Nc6,f4,dxc3,O-O,Qb4,Qf3,Bd7,a4,Nd4,Nxd4,Qxd4+,Kh1,Bc6,Qh3,Kf8,Ba3+,Kg7,Be7,Qe4,Bf6+,Kh7,Rf3,Qxc2', 'Qxh6+,Kxh6,Rh3#', 'https://lichess.org/training/bCE6p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bceVl', 'Rapid', 'Coolplay2013', 1800, 'JUNG198184', 1945, 'd4,d5,Nf3,Nf6,Nc3,Bf5,Bf4,e6,e3,Bb4,Bd3,Bxd3,cxd3,Bxc3+,bxc3,Nc6,O-O,O-O,Qb3,b6,Qb5,Qd7,Ne5', 'Nxe5,Qxd7,Nexd7', 'https://lichess.org/training/bceVl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BcfGJ', 'Rapid', 'Gambitmat86', 2037, 'katsogrid1960', 2221, 'e4,g6,d4,Bg7,Nf3,c5,d5,d6,Nc3,a6,a4,Nd7,Be2,Ngf6,O-O,O-O,h3,Rb8,Bf4,b5,axb5,axb5,e5,dxe5,Nxe5,Nxe5,Bxe5,Rb7,Nxb5,Nxd5,Bxg7,Kxg7,c4,Nf4,Qxd8', 'Nxe2+,Kh2,Rxd8', 'https://lichess.org/training/BcfGJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bCg7f', 'Rapid', 'Rohim_BouLu', 1801, 'ashish847', 1820, 'e4,e5,Bc4,d6,Nf3,Nf6,Nc3,Be7,Nd5,Nxe4,d3,Nf6,Bg5,Nxd5,Bxd5,c6,Bxe7,Qxe7,Bb3,O-O,Qe2,Bg4,h3,Bxf3,gxf3,d5,O-O-O,Nd7,h4,Nc5,h5,Nxb3+,cxb3,Rac8,Kb1,c5,Rdg1,b5,Rh2,c4,Rhg2,g6,Rg5,Rfe8,Qd2,cxb3,axb3,a6,hxg6,fxg6,Rh5,Rc7,Rh2,Rec8,Rgh1,Qf6,Qb4,Qxf3,Qd6,Qxd3+,Ka2,Qf5,Qxd5+,Kh8,f4,Qxf4,Qe6,a5', 'Rxh7+,Rxh7,Qxc8+', 'https://lichess.org/training/bCg7f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bCH6R', 'Rapid', 'trifun2000', 2111, 'Papst-Benedikt', 2111, 'e4,c5,Nf3,a6,Nc3,b5,d4,cxd4,Nxd4,Bb7,a3,e6,Be3,Nf6,f3,d5,e5,Nfd7,f4,Nc6,Be2,Rc8,O-O,Bc5,Kh1,Qb6,Nxe6,fxe6,Bc1,O-O,Bg4,Rce8,Nxd5,Qd8,Nc3,Nd4,Be3,Nf5,Bxc5,Nxc5,Qe2,Qh4,Kg1,Nd4,Qd1,Nxc2,Bxe6+,Rxe6,Qxc2,Rg6,Rf2,Rh6,g3,Rg6', 'Qxg6,hxg6,gxh4', 'https://lichess.org/training/bCH6R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BCJ7P', 'Rapid', 'Niver0', 2232, 'GrobesFeuer', 1627, 'e4,e5,Nf3,d5,exd5,e4,Ng5,Qxg5,Nc3,Qe5,Bc4,Nf6,Qe2,Bf5,d4,Qxd4,Be3,Qe5,O-O-O,Bb4,Bd4,Qd6,Nb5,Qd8,Be5,Bd6,Nxd6+,cxd6,Bb5+,Nbd7,Bxd6,a6,Ba4,b5,Bb3,Nb6,Ba3,Nfxd5,g4,Bg6,f4,Nxf4,Rxd8+,Rxd8,Qf2,Nfd5,Rd1,e3,Qe2,Nc4,Bxc4,bxc4,Qxc4,e2,Re1,f6,Rxe2+,Kf7,Qxa6,Rhe8,Rxe8,Rxe8,Qb7+,Ne7,h4,h5,gxh5,Bxh5,Bxe7,Rxe7,Qd5+,Kg6,a4', 'Re1+,Kd2,Rd1+,Kc3,Rxd5', 'https://lichess.org/training/BCJ7P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BcKtM', 'Rapid', 'Rezaoraki', 1760, 'attackmyqueen', 1852, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,Bb4+,Nc3,Nf6,a3,Bxc3+,Bxc3,O-O,Bd3,Re8,e5,Nc6,Nf3,Ng4,Qe2,d6,O-O,Ngxe5,Nxe5,Nxe5,Bxe5,Rxe5,Qf3,d5,Rad1,b6,Bc4,Bb7,Qh3,d4,Bd3,g6,f4,Re3,Qg4,c5,f5,h5,Qf4,g5,Qf2,f6,Bc4+,Bd5', 'Bxd5+,Qxd5,Qxe3', 'https://lichess.org/training/BcKtM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bClig', 'Blitz', 'EnCapsulado', 1693, 'hamovic', 1709, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,bxc6,O-O,d6,d4,Bg4,dxe5,dxe5,Qxd8+,Rxd8,Nxe5,Nf6,Bg5,Bd7,Bxf6,gxf6,Nxd7,Rxd7,Nc3,Bc5,Kh1,Rg8,f3,Rd2,g3,Rg6,Rac1,Rh6,h4,Bd6,Rg1', 'Rxh4+,gxh4,Rh2#', 'https://lichess.org/training/bClig');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bclzi', 'Rapid', 'Yurecc', 1670, 'Taurusri', 1610, 'd4,d6,c4,Nf6,Nf3,g6,g3,Bg7,Bg2,O-O,O-O,c6,Nc3,a6,Bf4,Nbd7,Qd2,d5,cxd5,cxd5,Bh6,Ne4,Qc1,Ndf6,Bxg7,Kxg7,Ne5,Nxc3,Qxc3,Bf5,Qb3,Ne4,Rfd1,Rc8,f3,Nf6,Rac1,b5,g4,Be6,e3,Qb6,Bf1,Nd7,Nxd7,Bxd7,Qxd5,Bc6,Qe5+,Kg8,Be2,Qb7,Kf2,f6,Qe6+,Kg7,h4', 'Bd5,Qxc8,Rxc8', 'https://lichess.org/training/Bclzi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BCMcL', 'Rapid', 'cirovicv', 1759, 'GuyIncognito_de', 1738, 'e4,d6,Nf3,Nf6,Bc4,Nxe4,d3,Nf6,Nc3,g6,Bg5,Bg7,Qd2,O-O,h3,Nc6,a3,a6,O-O,b5,Bb3,Na5,Ne4,Nxb3,cxb3,Nxe4,dxe4,Bb7,Rfe1,Qd7,Bh6,c5,Rad1,Qe6,Bxg7,Kxg7,Ng5,Qxb3,Re3,Qa4,h4,h6,Nh3,Bxe4,Qe2,d5,f3,Bf5,Nf2,e6,Ng4,Bxg4,fxg4,d4,Rf3,Rad8,Rdf1,d3,Qe5+,Kg8,h5,Qxg4,hxg6,Qxg6', 'Rg3,Qxg3,Qxg3+', 'https://lichess.org/training/BCMcL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BCnjW', 'Rapid', 'niklauskus', 1695, 'LouisDega', 1755, 'd4,d5,Bg5,h6,Bh4,Nf6,f3,Be6,e3,Nc6,c3,Qd7,g4,g5,Bg3,O-O-O,b4,Nb8,b5,c6,a4,h5,h3,h4,Bh2,Ne8,bxc6,bxc6,Nd2,Nd6,Rb1,Qc7,Qb3,Kd7,e4,f6,e5,fxe5,Bxe5,Rg8,Bd3,Bg7,Bh7,Rh8,Qc2,Bxe5,dxe5,Nf7,Kf2,Nxe5,Bf5,Rdf8,Ne2,Bxf5,gxf5,Na6,Nd4,Nc5,Ne6,Nxe6,fxe6+,Kxe6,Rbe1,Rf5,Nb3,Qb6+', 'Nd4+,Kd6,Qxf5', 'https://lichess.org/training/BCnjW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bCoCV', 'Rapid', 'infiernusred01', 1641, 'Transit', 1606, 'e3,e5,c4,Bc5,Qg4,Qf6,Nc3,d6,Qg3,Nc6,Nd5,Qh6,Nxc7+,Kf8,Nxa8,Nf6,Nc7,Nb4,Kd1,Bf5,d3,Qh5+,f3,Bxd3,Bxd3,Nxd3,Ne2,Nxc1,Nxc1,Bxe3,Ne2,Qf5,Nd5,Qd3+,Ke1,Nxd5,cxd5,Qxd5,Rd1,Qa5+,Kf1,Qxa2,Rxd6,Qb1+,Rd1,Qxd1+,Qe1,Qb3,g4,Ke7,Qh4+,f6,Kg2,Qxb2,Re1,Qd2,f4,Qd5+,Kh3,exf4,Nxf4,Qd4,Qg3,Kf7,Rxe3,a5,g5,fxg5,Ne2,g4+,Kg2,Qd5+,Kf2,Qf5+,Nf4,Qc2+,Re2,Qc5+,Qe3,Qxe3+,Rxe3,a4,Nd5,b5,Nc7,b4,Re4,Rb8,Na6,Rb6,Nxb4,a3,Rf4+,Kg8,Nd5,a2', 'Ne7+,Kh8,Rf8#', 'https://lichess.org/training/bCoCV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bCPex', 'Rapid', 'Kurt_Tactics', 1779, 'looconvo', 1780, 'e4,e5,Nf3,Nc6,Bb5,Qf6,Be2,Bc5,c3,Nge7,O-O,d5,d4,exd4,Bg5,Qe6,Nxd4,Nxd4,cxd4,Bb6,Re1,dxe4,Nc3,O-O,Bxe7,Qxe7,Bc4,Bf5,Qf3,Qf6,Nxe4,Qxd4,Qxf5,Qxc4,Nf6+,gxf6,Re4,Qc5', 'Rg4+,Kh8,Qxf6#', 'https://lichess.org/training/bCPex');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bCpJw', 'Classical', 'chess1965', 1749, 'kut85', 1732, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Qb6,b3,Bc5,c3,Nc6,Be3,Nxd4,cxd4,Qb4+,Qd2,Qxd2+,Nxd2,Bb4,a3,Bc3,Ra2,Nf6,e5,Ne4,f3,Nxd2,Bxd2,Bxd4,f4,O-O,Rc2,f6,exf6,Bxf6,Bb4,Rf7,Bc4,b6,f5,Bb7,fxe6,dxe6,Bxe6,Re8,Re2,Bh4+,Kd1,Bxg2', 'Bxf7+,Kxf7,Rxg2', 'https://lichess.org/training/bCpJw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bcQIa', 'Rapid', 'Tristan_lesda', 1693, 'Illusionist3', 1690, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nxd5,Qf3,Be6,Nc3,Nd4,Qg3,Nxc2+,Kf1,Nxa1,Nxd5,Bxd5,Qxe5+,Be7,Bxd5,f6', 'Bf7+,Kf8,Ne6+,Kxf7,Nxd8+', 'https://lichess.org/training/bcQIa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BCSKB', 'Blitz', 'Akinfenwa10', 1872, 'Peter_Silie', 2153, 'd4,Nf6,f3,d5,e4,dxe4,Nc3,e3,Bxe3,Bf5,Bd3,Bg6,Ne4,Nd5,Bf2,Nf4,c3,Nxg2+,Kf1,Nf4,Bc2,Nd7,Ne2,Nh3,Bg3,e6,Kg2,Ng5,h4,Nxe4,fxe4,Bh5,Qd2,Bxe2,Qxe2,Be7,Raf1,Nf6,e5,Nd5,Qf3,f6,exf6,Bxf6,Qe4,Qd7,Re1,O-O-O,Qxe6,Qxe6,Rxe6,Rhe8,Rhe1,Rxe6,Rxe6,Bxh4,Bxh7,Bxg3,Kxg3,c6,Bf5,Kc7,Be4,Nf6,Kf4,Rd7,Bf5,Rf7,Ke5,Nd7+,Ke4,Nf6+,Kd3,Nd5,Re5,Nf4+,Ke4,Nd5,Be6,Rf4+,Kd3,Rf3+,Kc4,b5+,Kb3,Nb6,Bg4,Rf4,Re7+,Kd6,Rxg7,a5,Be2,a4+,Ka3,Rf2,Bd3,Rd2,Rg6+,Kc7,Bf1,Rf2,Rg1,Kd6,b3,axb3,axb3,Nd5,c4', 'b4+,Ka4,Ra2#', 'https://lichess.org/training/BCSKB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bcTVj', 'Rapid', 'DiBarRo', 2051, 'AlfredGjoncari', 1857, 'd4,d5,Nf3,Bf5,Bf4,h6,h3,e6,c3,Bd6,Bxd6,Qxd6,e3,a6,Bd3,Bxd3,Qxd3,Nf6,Nbd2,b5,a3,Nbd7,e4,dxe4,Nxe4,Qd5,Ned2,c5,O-O,c4,Qe2,a5,Rfe1,a4,Ne5,Nxe5,dxe5,Nd7,Nf3,Nc5,Red1,Nd3,Rd2,O-O-O,Rad1,Rd7,Qe3,Rhd8,Re2,Qc5', 'Rxd3,cxd3,Qxc5+', 'https://lichess.org/training/bcTVj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BCUxk', 'Classical', 'Arthur577', 1782, 'BabarSan', 1807, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Be2,Bg7,O-O,O-O,Bf3,Nc6,Nce2,Bd7,c3,Rc8,Be3,Na5,Nb3,Nc4,Bxa7,b6,Qd4,Qc7,Bxb6,Qxb6,Qxb6,Nxb6,Nbd4,Nc4,b3,Ne5,a4,Nxf3+,gxf3,Bh3,Rfb1,Rc5,b4,Rg5+,Ng3,Rc8,f4,Rg4,e5,Ne4,exd6,exd6,f3,Rxf4,fxe4,Rxc3,Nde2,Rxg3+,hxg3,Rxe4,Ra2,d5,a5,Bg4,Nf4,Bd4+,Kg2,Re3,Nxd5', 'Bf3+,Kf1,Bxd5', 'https://lichess.org/training/BCUxk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BcvPK', 'Classical', 'loozah', 1624, 'ecorp', 1630, 'd4,Nf6,Nc3,g6,e4,d6,Nf3,Bg7,Be3,Nbd7,Bd3,O-O,O-O,c5,d5,Qb6,Na4,Qa5,b3,Nb6', 'Bd2,Qxa4,bxa4', 'https://lichess.org/training/BcvPK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bcwe7', 'Classical', 'rkasorrentino', 1935, 'RAJPUSH', 1926, 'Nf3,Nf6,b3,Nc6,Bb2,d5,g3,Bf5,d3,e6,Bg2,Bd6,O-O,O-O,Re1,e5,Nfd2,Bd7,e4,d4,c3,Re8,cxd4,exd4,Nc4,Bf8,e5,Ng4,Bxc6,bxc6,Bxd4,Bf5,Qf3,Qxd4,Qxf5,Qxa1,Qxg4,Qxa2,Nbd2,Bb4,e6,Bxd2,exf7+,Kxf7,Qh5+,Kf8,Ne5,Qxb3', 'Nd7+,Kg8,Rxe8+,Rxe8,Qxe8#', 'https://lichess.org/training/bcwe7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bcxQN', 'Rapid', 'ulisesg', 2047, 'Senmupro', 2035, 'c4,e6,Nc3,d5,cxd5,exd5,Nf3,c5,d4,c4,g3,Nf6,Bg2,Nc6,O-O,a6,Ne5,Be6,Nxc6,bxc6,e4,Qe7,Bg5,Qd7,Bxf6,gxf6,Qf3,Be7,Qh5,h6,Rad1', 'Bg4,Qxg4,Qxg4', 'https://lichess.org/training/bcxQN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BCYQe', 'Blitz', 'barzhachess', 1646, 'jm24', 1766, 'e4,c5,Nf3,a6,Nc3,Nc6,a3,e6,d3,d6,Be2,h6,h4,Qc7,d4,cxd4,Nxd4,Bd7,g3,g6,Be3,Bg7,f4,Nge7,b4,f6,Rb1,Na7,Qd2,Nec6,Nf3,b5,Rd1,Bf8,e5,fxe5,fxe5,d5,Nd4,Nxe5,Bf4,Bg7,Qe3,Nac6,Nxc6,Qxc6,Bxe5,Bxe5,Qxe5,O-O-O,Rf1,Rhf8,Rxf8,Rxf8,Rd2,Rf5,Qh8+,Kb7,Nd1,Qd6,Rd3,e5,Qxh6,e4,Re3,Bc6,Nf2,d4,Nxe4,Bxe4,Rb3,Bxc2,Rf3,d3,Rxf5,Qxg3+,Rf2,dxe2,Kxe2', 'Qd3+,Ke1,Qd1#', 'https://lichess.org/training/BCYQe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bCzcu', 'Blitz', 'saxx007', 1542, 'puccini', 1571, 'd3,e5,e3,d5,g3,c6,Bg2,f5,Ne2,Nf6,b3,Be7,Bb2,O-O,O-O,Nbd7,Qd2,e4,dxe4,fxe4,Qc3,Qe8,Nd2,Qf7,f3,Bd6,Qa5,Ne5,fxe4,Bg4,Nf4,Ng6,exd5,Nxf4,exf4,Nh5,dxc6,bxc6,Bxc6,Rac8,Bd5,Be6,Bxe6,Qxe6,c4,Qe3+,Rf2,Bc5,Rf1,Nxg3,hxg3,Qxg3+,Kh1,Rc6,Rg2', 'Rh6+,Rh2,Rxh2#', 'https://lichess.org/training/bCzcu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bCzVK', 'Rapid', 'pepapepe789', 1881, 'Hamu_IQ_TV', 1777, 'c4,e5,Nc3,Nc6,Nf3,Nf6,g3,Bb4,Nd5,e4,Nxb4,Nxb4,Nd4,O-O,Bg2,d5,Qb3,c5,Nc2,Be6,Nxb4,dxc4,Qe3,cxb4,O-O,Re8,h3,a5,b3,b5,Bb2,Bd5,bxc4,bxc4,Qg5,Rc8', 'Bxf6,Qxf6,Qxd5', 'https://lichess.org/training/bCzVK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bD3h6', 'Rapid', 'Magsybugsi', 1852, 'safahchess', 1788, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e5,Nb3,Be7,O-O,O-O,Kh1,b5,f4,Bb7,Bf3,Nbd7,f5,Nb6,g4,b4,Nd5,Nbxd5,exd5,e4,Bg2,Bxd5,g5,Bxb3,axb3,Nd7,f6,gxf6,gxf6,Nxf6,Bh6,Re8,Rxf6', 'Bxf6,Qg4+,Kh8', 'https://lichess.org/training/bD3h6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bd45K', 'Rapid', 'AMateNamedDesire', 1763, 'gorg1450', 1793, 'e4,g6,d4,Bg7,c4,d6,Nc3,Nc6,Be3,e6,Nf3,Bd7,Be2,Nf6,Qd2,Ng4,Bf4,e5,dxe5,dxe5,Bg3,h5,h3,h4,hxg4,hxg3,Rxh8+,Bxh8,Ng5,gxf2+,Kxf2,Qf6+,Kg1,Rd8,Nd5,Qd6,Rf1,f6,Nh7,Kf7,Ng5+,Kg7,Nh3,Kh7,g5,Bxh3,gxh3,Rf8,gxf6,Bxf6,Qe1,Nd4,Nxf6+,Rxf6,Qh4+,Kg7,Bg4,Rxf1+,Kxf1,Qf6+,Qxf6+,Kxf6,h4,b6,Ke1,Nc2+,Kd2,Nb4,a3,Nc6,b4,Nd4,a4,c6,Kc3,c5,a5,Nc6,bxc5,bxc5,a6,Nb4,Kb3,Nxa6,Ka4,Nc7,Ka5,g5,h5,Kg7,Bf5,Kh6,Bg4,Ne8,Kb5,Nf6,Bf5,g4,Bxg4,Nxg4,Kxc5,Kxh5,Kd5,Kg5,c5,Kf4', 'c6,Nf6+,Ke6,Nxe4,c7', 'https://lichess.org/training/bd45K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bd54f', 'Rapid', 'Mar082', 1652, 'orionvolf', 1657, 'e4,c5,Bc4,g6,h3,Bg7,d3,e6,Nf3,a6,a4,Nc6,c3,Nge7,O-O,O-O,Bg5,d5,exd5,exd5,Bb3,Be6,Re1,Qd7,Na3,h6,Bh4,Nf5,Bg3,Nxg3,fxg3,Qc7,g4,Rae8,Nc2,c4,dxc4,dxc4,Ba2,Rd8,Qe2,Bd5,Bxc4,Bxf3,Qxf3,Ne5,Rxe5,Qxe5,Re1,Qc5+,Ne3,Be5,Rf1,Rd7,b4,Qa7,Kh1,b5,axb5,axb5,Bxb5,Rd2,Nd5,Qb7', 'Nf6+,Bxf6,Qxb7', 'https://lichess.org/training/bd54f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BD6Iv', 'Rapid', 'aibashov_azamat', 1839, 'Muleskinner', 1930, 'e4,e6,d4,d5,exd5,exd5,c3,Bd6,Bd3,Ne7,Ne2,Bg4,f3,Bh5,Nf4,Bg6,Bxg6,hxg6,Qb3,g5,Nxd5,Nxd5,Qxd5', 'Bg3+,Kd1,Qxd5', 'https://lichess.org/training/BD6Iv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bd6Nf', 'Classical', 'Gabor171', 1935, 'kenkz', 1901, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,Nc3,a6,Be3,Nf6,Be2,e5,Nb3,Be7,O-O,Be6,f4,O-O,f5,Bxb3,axb3,Qd7,Bc4,Rfd8,Bd5,Nxd5,Nxd5,f6,c3,Bf8,Qf3,Rab8,Bb6,Re8,Kh1,Ne7,Rad1,Qb5,Nxe7+,Bxe7,Bc7,Rbc8,Bxd6,Bxd6,Rxd6,Qxb3,Qe2,Rcd8,Rfd1,Rxd6,Rxd6,Qa4,g4,Rc8,h4,Qa2,Qd2,Qb1+,Kh2,Qxe4,Rd8+,Rxd8,Qxd8+,Kf7,Qd7+,Kg8', 'Qe8#', 'https://lichess.org/training/Bd6Nf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bD6Za', 'Rapid', 'uthant', 1662, 'trickstar99', 1717, 'e4,c5,Bc4,e6,Nc3,Qg5,Qf3,Nc6,d3,Qh4,g3,Qf6,Qe3,Nd4,Qd2,b6,Nce2,Bb7,Nxd4,cxd4,f4,O-O-O,Nf3,d6,O-O,d5,e5,Qf5,Nxd4', 'Bc5,Bb5,Bxd4+', 'https://lichess.org/training/bD6Za');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bd6zF', 'Classical', 'JustASmallTownBoy', 1973, 'Lvovich', 2040, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,c5,d5,a6,O-O,Qc7,h3,Nbd7,Bf4,Nh5,Bh2,Ne5,Nxe5,dxe5,Bxh5,gxh5,Qxh5,f5,exf5,Bxf5,f3,Bd3,Rfe1,Rf5,Qh4,Bf6,Qg4+,Rg5,Qe6+,Kh8,Ne4,Rag8,Nxg5,Rxg5,d6,Qc6,Kh1,Bf5,Qf7,Bxh3,Re2,Rg7,Qf8+,Rg8,dxe7,Bg7,Bxe5,Bxe5,gxh3,Qe6,Qxg8+,Kxg8,Rg1+,Kf7,f4', 'Qxh3+,Rh2,Qf3+', 'https://lichess.org/training/Bd6zF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bD9d4', 'Rapid', 'SuperBicycleMan', 1984, 'Serhii81', 1946, 'e4,d5,exd5,Qxd5,Nf3,Nf6,Nc3,Qa5,Bc4,Bg4,O-O,Nc6,Nb5,O-O-O,Nc3,Nd4,Be2,e5,Nxd4,Rxd4,Bxg4+,Nxg4,Ne2,Rd8,Ng3,h5,Nxh5,Nf6,Nxf6,gxf6,Qg4+,Kb8,d3,Bd6,Qg7,Qd5,Qxf6,e4,g3,exd3,Rd1,Rxh2,Kxh2,Qh5+,Kg2,Qd5+,f3,Be5,Qf5,Rg8,Rxd3,Rxg3+,Kf1,Rg1+,Kf2,Bd4+,Be3,Qxf5,Rxd4,Rxa1,Rd8+,Qc8,Rxc8+,Kxc8,a3,Rh1,Kg2,Rh8,f4,b6,b4,f5,c4,Kd7,c5,Kc6,cxb6,axb6,Bd4,Rg8+,Kh3,Rg4,Be5,Kd7,a4,c6,a5,bxa5,bxa5,c5,a6,c4', 'a7,Rg8,Bb8', 'https://lichess.org/training/bD9d4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BD9FL', 'Rapid', 'mamayka', 1742, 'mikhail123', 1723, 'e4,e5,Nf3,Nc6,Bb5,Qf6,Nc3,Nge7,O-O,h6,Bxc6,dxc6,d3,g5,g3,Bg4,Kg2,Ng6,Re1,Nh4+,gxh4,gxh4,Re3,Rg8,Kf1,Bc5,d4,Bxd4,Rd3,O-O-O,Qe2,Bh3+,Ke1,Bg2,Nxd4,Rxd4,Rxd4,exd4,e5,Qf5,Qd3,Qg4,Ne2,Bf3,Bxh6,Bxe2,Qxe2,Qg2,Rd1,Qh1+,Qf1', 'Rg1,Qxg1,Qxg1+', 'https://lichess.org/training/BD9FL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bd9FZ', 'Rapid', 'manjiparty', 1632, 'Fard12345', 1636, 'd4,c6,g3,b5,Bg5,a5,Bg2,Bb7,Nc3,b4,Ne4,h6', 'Nd6+,exd6,Bxd8', 'https://lichess.org/training/bd9FZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bDaBO', 'Classical', 'GisforGod', 1741, 'CROSING', 1729, 'd4,d5,Bf4,Nc6,e3,Nf6,Nf3,Bg4,Bd3,Ne4,O-O,e6,Nbd2,Bd6,c3,O-O,h3,Bh5,Qb3,b6,Bb5,Ne7,Nxe4,Bxf3,Nxd6,Bxg2,Nxf7,Rxf7,Kxg2,Ng6,Bg3,Qg5,f4,Nh4+,Kh2,Qf6,Qc2,Qh6,Bd3,Qh5,Bxh4,Qxh4,f5,Raf8,fxe6', 'Rf2+,Qxf2,Rxf2+,Rxf2,Qxf2+', 'https://lichess.org/training/bDaBO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bdb4S', 'Classical', 'kondukator0', 2046, 'pablocuevas', 2118, 'd4,d5,Bf4,Nf6,e3,Nbd7,Nf3,a6,c3,c5,Bd3,c4,Bc2,b5,a3,e6,Nbd2,Qb6,O-O,a5,e4,dxe4,Nxe4,Nd5,Bd2,Bb7,Qe2,Rc8,Rfe1,b4,axb4,axb4,cxb4,Nxb4,Bc3,Be7,Ba4,Nd3,Ne5,Nxe5,dxe5,Rd8,Red1,Bc6,Bxc6,Qxc6,Nd6+,Bxd6,Rxd6,Qc5,Bd4,Qb5,Ra7,O-O,f4,Nb8,Rb6,Qd5,Bc3', 'Qc5+,Kf1,Qxb6', 'https://lichess.org/training/bdb4S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BdDAD', 'Blitz', 'Mudangi_I', 2140, 'GoteNoSente', 2124, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d3,Nf6,d4,Bg4,Be2,Be7,O-O,O-O,h3,Bh5,c4,Nc6,Nc3,d5,Bg5,dxc4,Bxf6,Bxf6,g4,Bg6,d5,Ne5,Nxe5,Bxe5,Bxc4,Qf6,Rc1,Qf4,Re1,Qh2+,Kf1,Rfe8,Qf3,h5,d6,hxg4,hxg4,Bxd6,Qxb7,Be4,Nxe4', 'Qh1+,Ke2,Rxe4+,Qxe4,Qxe4+', 'https://lichess.org/training/BdDAD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bdDcH', 'Rapid', 'Clancy08', 1862, 'jtsilva', 1867, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be3,e6,f3,Be7,Qd2,Bd7,O-O-O,Nc6,a3,Nxd4,Bxd4,e5,Be3,Rc8,Be2,O-O,g4,Bc6,Rdg1,Nd7,h4,Nb6,g5,Na4,Nd5,Bxd5,exd5,Nb6,b3,Qc7,c4,Nd7,h5,Nc5,Kb2,b5,g6,bxc4,Bxc4,Na4+,Ka2,Nb6,Bd3,Nxd5,h6,Nc3+,Qxc3,Qxc3', 'gxh7+,Kh8,hxg7#', 'https://lichess.org/training/bdDcH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bddFe', 'Rapid', 'LeonBlanco', 2265, 'wari05', 2125, 'd4,e6,Bf4,b6,e3,Bb7,Nf3,Nf6,h3,c5,c3,Nc6,Be2,Be7,Nbd2,Rc8,a4,O-O,O-O,Na5,Ne5,d6,Nec4,Nxc4,Nxc4,cxd4,exd4,Be4,Nd2,Bg6,Ba6,Rc7,Bh2,Ne4,Nxe4,Bxe4,Re1,Bb7,Bd3,Bf6,Qg4,Rc8,a5,bxa5,Qh5,g6,Qxa5,Qd7,Qxa7,Qc6,d5,exd5,Qe3,Rfe8,Qf3,Be5,Bg3,Qb6,Bxe5,dxe5,Qe2,Rb8,Bb5,Bc6,Bxc6,Qxc6,Ra7,Qb6,Ra2,Qb3,Rea1,d4,Qd3,Rbc8,Ra3,Qxb2,cxd4,Rc1+,Rxc1,Qxc1+,Kh2,Qf4+,Kg1,exd4,g3,Re1+,Kg2,Qe5,Ra4,Qd5+,f3,Qb7,Qd2,Re3,Qf2,Qd5,h4,Rc3,Rxd4,Qe6', 'Rd8+,Kg7,Qd4+,Qf6,Rg8+,Kxg8,Qxf6', 'https://lichess.org/training/bddFe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bddFh', 'Rapid', 'Yvan_chec-math_zero', 1666, 'alex_vikner', 1623, 'e4,d5,Bd3,Nf6,e5,Ne4,Bxe4,dxe4,Qe2,Bf5,Qb5+,Nc6,Qxb7,Nxe5', 'Qb5+,Qd7,Qxe5', 'https://lichess.org/training/bddFh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bDDtq', 'Rapid', 'BagusDewe', 1866, 'GodChamar', 1803, 'd4,d5,Nc3,c6,Nf3,Nf6,Bg5,Bg4,e3,e6,Be2,Be7,h3,Bf5,g4,Bg6,Ne5,O-O,h4,Be4,Rh2,c5,f3,cxd4,exd4,Bxc2,Qxc2,Nc6,Nxc6,bxc6,h5,Qd6,f4,c5,h6,g6,O-O-O,cxd4,Rxd4,Rac8,Kb1,Ne4,Bxe7,Qxe7,Bd3,Nxc3+,bxc3,Qc5,Ra4,Qxc3,Qxc3,Rxc3,Bc2,Re3,Rxa7,Rb8+,Kc1,Rg3,f5,Rxg4,fxe6,Rf4,exf7+,Rxf7,Rxf7,Kxf7,Rd2,Ke6,Bb3,Rc8+,Kb2,Rb8,a4,Ke5,Ka3,d4,Re2+,Kf4,Re7,d3,Rd7,Ke3,Rxh7,d2,Re7+,Kf2,h7', 'Rxb3+,Kxb3,d1=Q+', 'https://lichess.org/training/bDDtq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BDdvG', 'Rapid', 'need_girl', 1718, 'LightBulb1913', 1688, 'e4,c5,Nf3,Nc6,c3,e5,d3,d6,c4,Nf6,Nc3,Be7,Nd5,Nxd5,cxd5,Nd4,Bd2,O-O,b4,b6,Be2,Bg4', 'Nxd4,Bxe2,Nxe2', 'https://lichess.org/training/BDdvG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bDeQV', 'Rapid', 'Ranet', 1798, 'fevziyaman58', 1662, 'd4,c6,c4,d6,Bf4,g6,e4,Bg7,e5,dxe5,Bxe5,Qa5+,Nc3,Bxe5,dxe5,Qxe5+,Be2,Nf6,Nf3,Qa5,O-O,O-O,Re1,e6,Qc2,Nbd7,b3,Qc7,Ne4,Nxe4,Qxe4,Nf6,Qh4,Qd8,Ng5,Nh5,g4,h6,Nf3,Qxh4,Nxh4,Nf4,Ng2,Nxg2,Kxg2,g5,h3,e5,Bd3,Re8,Rad1,Kg7,Kg3,f6,Be4,Be6,Rd6,Re7,h4,gxh4+,Kxh4,a6,Red1,Rae8,c5,Rh8,Rxe6,Rxe6,Rd7+,Kg8,Bg6,e4', 'Bf7+,Kf8,Bxe6', 'https://lichess.org/training/bDeQV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BdeXP', 'Rapid', 'samu511', 1624, 'Chesspertheghost', 1642, 'e4,c5,Nf3,Nc6,Bc4,e6,O-O,d5,exd5,exd5,Bb5,Bd7,Nc3,a6,Be2,d4,Ne4,f5,Ng3,Bd6,d3,Nf6,Ng5,h6', 'Bh5+,Kf8,Nf7', 'https://lichess.org/training/BdeXP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BDfWx', 'Blitz', 'salar2552', 1876, 'MEHRDAD2017', 1809, 'e4,d6,d4,g6,Nf3,Bg7,Bc4,Nc6,O-O,e5,d5,Nce7,Bd3,f5,c4,Nf6,Nc3,f4,b4,O-O,a4,h6,Ba3,g5,Kh1,Ng6,c5,g4,Ng1,h5,f3,gxf3,Nxf3,Ng4,Bc1,Nh4,h3,Nxf3,Qxf3,Qh4,Nb5,Ne3,Bxe3,fxe3,Qxe3,Bg4,Nxc7,Rf3,Rxf3,Bxf3,Nxa8', 'Qxh3+,Kg1,Qxg2#', 'https://lichess.org/training/BDfWx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bDJv6', 'Rapid', 'ZorboZAN1', 2002, 'GoodByeLenin', 2021, 'g3,Nf6,Bg2,g6,d4,Bg7,c4,O-O,Nf3,d5,cxd5,Nxd5,O-O,Nb6,Nc3,N8d7,e3,c5,d5,Ne5,Nxe5,Bxe5,e4,e6,Be3,c4,Bxb6,Qxb6,Qc2,Bd7,Kh1,Rac8,f4,Bxc3,Qxc3,exd5,exd5,Bf5,Rfd1,Rfd8,Rd2,Bd3,b3,Qe3,bxc4,Rxd5,Bxd5', 'Be4+,Bxe4,Qxc3', 'https://lichess.org/training/bDJv6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BdLiZ', 'Blitz', 'Sandaruwan1', 1591, 'amgalan09', 1596, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,h3,d6,a3,Nf6,Nc3,O-O,g4,Nh7,Qe2,Be6,Bxe6,fxe6,Rg1,a6,h4,b5,g5,h5,g6,Nf6,Ng5,Ng4,Nxe6,Bxf2+,Kd1,Qxh4,Nxf8,Bxg1,Ne6,Nd4,Nxd4,exd4,Nd5,Ne3+,Bxe3,dxe3,Rc1,Qf2,c3,Rf8', 'Ne7+,Kh8,Qxh5#', 'https://lichess.org/training/BdLiZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bdlOe', 'Blitz', 'unanua', 1746, 'alisandogan1', 1744, 'e4,e5,Nf3,d5,exd5,e4,Qe2,Nf6,d3,Qxd5,Nc3,Bb4,Bd2,Bxc3,Bxc3,O-O,dxe4,Nxe4,Qd3,Qe6,Be2,Re8,Be5,Nc5,Qc3,Nc6,Qxc5,Nxe5,Nxe5,Qxe5,Qxe5,Rxe5,O-O-O,Bh3,Bf3,Be6,Kb1,Rb8,Rd2,c6,Rhd1,g6,Rd8+,Rxd8,Rxd8+,Kg7,Rd1,f5,b3,Bd5,Bxd5,Rxd5,Rxd5,cxd5,Kc1,Kf6,Kd2,Ke5,Ke3,d4+,Kd3,b5,c3,dxc3,Kxc3,a5,a4,b4+,Kd3,Kd5,g3,h5,h4,Kc5,Ke3,Kd5,Kf4', 'Kd4,Kg5,Kc3,Kxg6,Kxb3', 'https://lichess.org/training/bdlOe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bdmeC', 'Classical', 'hendry1992', 1697, 'chrisblo89', 1728, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Qe2,Nxc4,Qxc4,Nxd5,d3,Be7,h4,h6,Nc3,hxg5,Nxd5,Bd6,Bxg5,f6,Be3,Be6,Nxc7+,Qxc7,Qxe6+,Be7,O-O-O,Rd8,a3,Rd6,Qg4,Bf8,c3,b5,Qe4,a5,d4,Re6,dxe5,Bxa3,Qa8+,Kf7,Qxh8', 'Qxc3+,Kb1,Qxb2#', 'https://lichess.org/training/bdmeC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bDok6', 'Rapid', 'Abhinandan_Sahil', 1788, 'st11', 1854, 'd4,Nf6,Bf4,d5,e3,e6,c3,Nbd7,Nd2,Be7,Ngf3,O-O,Bd3,c5,Ne5,c4,Bc2,b5,h4,a5,g4,b4,g5,Ne8,Bxh7+,Kxh7,Qh5+,Kg8,Ndf3,Nd6,g6,Nf6,gxf7+,Nxf7,Qg6,Nh8,Qg2,bxc3,bxc3,Qe8,h5,Nxh5,Bh6,Bf6,O-O,Kh7,Bf4,Nxf4,exf4,Bxe5,Nxe5,Rxf4', 'Qh2+,Kg8,Qxf4', 'https://lichess.org/training/bDok6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BDP0j', 'Classical', 'Jho2100', 1704, 'Hari_Tamilan', 1692, 'd4,d5,c4,e6,cxd5,Qxd5,Nc3,Bb4,Qa4+,Nc6,Qxb4,Nxb4,Nxd5,Nc2+,Kd1,exd5,Kxc2,Bf5+,Kd1,Nf6,f3,O-O,e3,Rae8,Bb5,c6,Ba4,b5,Bb3,a5,Ne2,Bd3,Bd2,b4,Rc1,Bb5,a3,a4,Ba2,b3,Bb1,Nd7,Ke1,g6,Bb4', 'Rxe3,Kf2,Rxe2+', 'https://lichess.org/training/BDP0j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BdQsH', 'Blitz', 'NM gyan23', 2044, 'Legend12', 2088, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,b5,Bb3,e6,O-O,Be7,Qf3,Qc7,Qg3,O-O,Bh6,Ne8,Rac1,Bd7,a4,bxa4,Nxa4,Nc6,Nxc6,Bxc6,Nc3,Bf6,Bf4,a5,Ra1,Bxc3,Qxc3,a4,Bxa4,Rxa4,Rxa4,Bxa4,Qxc7,Nxc7,Bxd6,Rc8,Ra1,Ne8,e5,Bxc2,Rc1,f6,f3,fxe5,Bxe5,Rc6,b4,Ba4,Ra1,Bb5,Ra8,Rc4,Bd6,Kf7,Bc5,Bc6,Rc8,Bd5,b5,Rc1+,Kf2,Rb1,b6,Bb7,Rb8,Bd5,Ke3,Nf6,Rf8+,Kg6,Kf4,Bc6,g4,Nd5+,Kg3,Rb2,h4,Nxb6,h5+,Kh6,Rf6+,gxf6', 'Bf8+,Kg5,f4#', 'https://lichess.org/training/BdQsH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bDRb9', 'Bullet', 'BruMnT', 1616, 'hobbgun', 1620, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Nc3,e6,Be3,Be7,Be2,Nf6,O-O,O-O,f4,h6,Kh1,Nh7,Bd3,Nxd4,Bxd4,a6,Qf3,Bf6,e5,Be7,exd6,Bxd6,Bxh7+,Kxh7,Qg4,f6,Rf3,Rg8,f5,e5,Qg6+,Kh8,Rh3,Qf8,Be3,Bd7', 'Bxh6,gxh6,Rxh6+,Qxh6,Qxh6#', 'https://lichess.org/training/bDRb9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bdtbG', 'Blitz', 'and_ryk_02', 1704, 'Amirlan_S', 1734, 'd4,b6,c4,g6,Nc3,Bb7,Bf4,Bg7,Nf3,d6,e4,c5,d5,Nd7,Qc2,Ngf6,Be2,a6,Rc1,Nh5,Be3,O-O,Ng5,Rb8,Bxh5,gxh5,O-O,h6,Nh3,Nf6,Qe2,Bc8,Nf4,e5,Nxh5,Nxh5,Qxh5,f5,Bxh6,f4,g3,Rf6,Bxg7,Kxg7,Qe2,Bh3,Rfe1,Qg8,Qh5,Rh6,Qg5+,Kh7,Qe7+,Qg7,Qxg7+,Kxg7,f3,Rg8,Ne2,fxg3,Nxg3,Kf6,Kf2,Bd7,Rg1,Rxh2+,Ke3,Rxb2', 'Nh5+,Kf7,Rxg8,Kxg8,Nf6+,Kf8,Nxd7+', 'https://lichess.org/training/bdtbG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bdTeQ', 'Rapid', 'Innchiller', 1735, 'stephcurry7', 1778, 'd4,b6,c4,Bb7,Nc3,Nf6,Bg5,h6,Bxf6,exf6,e4,Bb4,Ne2,Qe7,a3,Bxc3+,Nxc3,Bxe4,Nxe4,Qxe4+,Be2,Qxg2,Rf1,Qxh2,Qd3,Qd6', 'Qe4+,Qe7,Qxa8', 'https://lichess.org/training/bdTeQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BdTkK', 'Rapid', 'Ur_KnightMare', 1894, 'mamopiretti', 1669, 'd4,c5,c3,g6,h3,Bg7,Nf3,Nf6,Bf4,e6,e3,d5,Nbd2,c4,Be2,b5,a4,b4,cxb4,a6,O-O,Qb6,b5,axb5,axb5,Rxa1,Qxa1,Qxb5,Ne5,Nc6,b3,Nxe5,bxc4,Nxc4,Nxc4,dxc4,Rb1,Qd7,Bxc4,O-O,Bb5,Qd5,Qa7,Bb7,f3,Ra8,Qc5,Ra5,Bc7,Bf8', 'Qxd5,Nxd5,Bxa5', 'https://lichess.org/training/BdTkK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bdUmN', 'Blitz', 'Grandote444', 1771, 'Adolfo10', 1904, 'e4,e5,Nf3,Nf6,Bc4,Bd6,Nc3,Bb4,d3,Nc6,Bd2,O-O,O-O,d6,h3,Bd7,a3,Bc5,Be3,Nd4,Nxd4,exd4,Bg5,dxc3,bxc3,h6,Bh4,g5,Bg3,Qc8,d4,Bb6,Bd3,c5,e5,dxe5,dxe5,Nh7,Qh5,Kg7,e6,Bxe6,Be5+,f6', 'Qg6+,Kh8,Qxh7#', 'https://lichess.org/training/bdUmN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bdv5u', 'Rapid', 'CrAzY_MaNaGeR', 1600, 'ArkodiptoDutta', 1979, 'e4,d5,exd5,Qxd5,c4,Qd8,d4,Nf6,Nc3,e6,Nf3,c5,Be3,cxd4,Qxd4,Qxd4,Bxd4,Be7,Nb5,Na6,Bxa7,Nb4,O-O-O,O-O,a3,Nc6,Bb6,Ra6,Be3,Ng4,h3,Nge5,Nxe5,Nxe5,f4,Nd7,g4,Rc6,h4,e5,Na7,Rc7,Nxc8,Rfxc8,Rd5,f6,fxe5,Nxe5,Be2,Nxc4,Bxc4,Rxc4+,Kb1,Rxg4,Rd7,Re4,Bb6,Bc5,Bxc5,Rxc5,Rxb7,h6,Rb4,Re2,Ka2,Kh7,a4,Ra5,Kb3,Re3+,Kc2,Re2+,Kb1,f5,b3,Kg6,Rb5,Rxb5,axb5,Re5,b6,Rb5,Rg1+,Kf6,Kc2,Rxb6,Kc3,Rc6+,Kb4,Re6,Ka5,Re4,b4,Rxh4,b5,Rh2,Rb1,Re2,b6,Re8,b7,Rb8,Ka6,g5,Ka7,Re8,Rc1,Re4,b8=Q', 'Ra4+,Kb7,Rb4+,Kc8,Rxb8+', 'https://lichess.org/training/Bdv5u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BDwpY', 'Rapid', 'jeyshark', 1703, 'yigiterenayhan', 1729, 'e4,e5,f4,d6,Nf3,Nc6,Bc4,Be7,O-O,Bg4,Bxf7+,Kxf7,Nxe5+,Nxe5', 'fxe5+,Bf6,Qxg4', 'https://lichess.org/training/BDwpY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BDWze', 'Rapid', 'jagd_86', 1889, 'Neanders', 1974, 'e4,c6,Nf3,d5,e5,c5,Bb5+,Nc6,d4,Bg4,dxc5,e6,Be3,Ne7,O-O,Nf5,Bf4,Bxc5,h3,Bxf3,Qxf3,Nd4,Bxc6+,Nxc6,c3,O-O,Nd2,f6,exf6,Qxf6,Bg3,Rae8,Qxf6,Rxf6,Nb3,Bb6,Bd6,e5,Bc5,e4,Bxb6,axb6,Rad1,Rd8,Rd2,Kf7,Rfd1,Rfd6,Nc1,Ke6,Ne2,Ke5,g3,g5,Kg2,h5,b3,d4,cxd4+,Nxd4,Nc3,Nf3', 'Rxd6,Rxd6,Rxd6', 'https://lichess.org/training/BDWze');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BDx1B', 'Rapid', 'barbrau', 1657, 'Albert1997', 1672, 'e4,e5,Bc4,Nf6,d3,Nc6,c3,Bc5,h3,O-O,Bg5,d6,Nf3,Be6,Nbd2,Bxc4,Nxc4,b5,Ncd2,b4,O-O,bxc3,bxc3,Rb8,Nb3,h6,Bh4,g5,Bg3,Rb5,Nxc5,Rxc5,Nh2,Rxc3,h4,Nd4,hxg5,hxg5,Ng4,Nh5', 'Nh6+,Kg7,Qxh5', 'https://lichess.org/training/BDx1B');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BdXpC', 'Blitz', 'matussalen', 2266, 'caipirachess', 2314, 'd4,Nf6,c4,e6,Nf3,b6,e3,Bb7,Nc3,Be7,Bd3,O-O,O-O,Bb4,Qe2,Bxc3,bxc3,Ne4,Bb2,f5,Ne1,d6,f3,Nf6,e4,fxe4,fxe4,e5,Nf3,Nbd7,a4,a5,Ba3,Qe7,Rab1,Rae8,c5,exd4,cxd4,dxc5,dxc5,Nxe4,Rbe1,Ndxc5,Bc4+,Kh8,Bb5,Rd8,Bb2,Qd6,Ne5,Rxf1+,Rxf1,Bd5,Nf7+,Bxf7,Rxf7,Qd1+,Qxd1,Rxd1+,Bf1,Ne6,Re7,h6,Rxe6,Nd2,Re8+,Kh7,Rf8,Nxf1,Rxf1,Rd2,Ba1,Ra2,h3,Rxa4,Kh2,Kg6,Be5,Rc4,Rd1,b5,Rd7,c6,g4,h5', 'Rxg7+,Kh6,g5#', 'https://lichess.org/training/BdXpC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bdXTy', 'Rapid', 'Okkah', 1688, 'rodrigo1130', 1679, 'e4,e6,d4,d5,e5,c5,Be3,cxd4,Bxd4,Nc6,Bc3,Qb6,Nd2,Bc5,Nh3,d4,b4,dxc3,Nc4,Qxb4,Rb1,Qa4,Nd6+,Bxd6,Qxd6,Qxc2,Rd1,Nge7,Bd3,Qxa2,O-O,O-O,Ng5,Rd8,Bxh7+,Kf8', 'Qxd8+,Nxd8,Rxd8#', 'https://lichess.org/training/bdXTy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BdyEC', 'Blitz', 'Master579', 1506, 'max021', 1722, 'e4,e6,Nf3,d5,e5,d4,c3,c5,Bc4,Nc6,O-O,Qc7,b3,Nxe5,Nxe5,Qxe5,Re1,Qc7,Bb2,e5,cxd4,cxd4,d3,Bc5,Nd2,Nf6,Ne4,Nxe4,Rxe4,O-O,Qf3,Kh8,Rh4,f5', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/BdyEC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bdyv6', 'Rapid', 'merahauk', 1881, 'gilzzza', 1910, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Nxd7,d4,cxd4,Nxd4,e6,O-O,Ngf6,Re1,Be7,Nc3,O-O,b3,e5,Nf5,g6,Nxd6,Bxd6,Qxd6,Rc8,Bb2,Qa5,Qd3,Rfd8,Qf3,Kg7,h3,Nc5,Rad1,Ne6,Nd5,Nxd5,exd5,Nd4,Bxd4,exd4,Re7,Qxd5,Qf4,Rxc2,Rxd4,Qxd4', 'Qxf7+,Kh6,Qxh7+,Kg5,h4+,Qxh4,Re5+', 'https://lichess.org/training/bdyv6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bDyXy', 'Blitz', 'seddiqrasooly123', 2046, 'WFM Larciano', 2168, 'f4,Nf6,Nf3,e6,e3,b6,Be2,Bb7,O-O,c5,b3,d5,Bb2,Nbd7,h3,Be7,Ne5,Qc7,Na3,a6,Qe1,O-O,Rd1,Nxe5,Bxe5,Qc6,Nb1,Nd7,Bb2,Bf6,Nc3,b5,Qg3,b4,Na4,c4,Bxf6,Nxf6,f5,Rfe8,fxe6,Rxe6,Rf2,Rae8,Qh4,Ne4,Rff1,Rh6,Qf4,Rf6,Qh4,Ree6,d3,Rh6,Qf4,Rhf6,Qb8+,Re8,Rxf6,Rxb8', 'Rxc6,Bxc6,dxe4', 'https://lichess.org/training/bDyXy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('be1Ww', 'Rapid', 'Chess-manager', 1932, 'DavidLopez96', 1913, 'e4,e5,Nf3,Nc6,d4,d6,dxe5,Bg4,exd6,Bxf3,Qxf3,Nd4,Qd3,Qxd6,Be3,Rd8,Nc3,g6,O-O-O,Bg7,Bxd4,Bxd4,g3,Bxf2,Qb5+,c6,Qxb7', 'Be3+,Kb1,Qxd1+,Nxd1,Rxd1#', 'https://lichess.org/training/be1Ww');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BE2Pp', 'Rapid', 'caduzon', 1705, 'Psicoman', 1647, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,b5,Bb3,b4,Nd5,Nxe4,Qf3,Nc5,O-O,Bb7,Qh5,Nxb3,Nxb3,e6,Nf4,Be7', 'Nxe6,g6,Nxd8,gxh5,Nxb7', 'https://lichess.org/training/BE2Pp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Be3oq', 'Blitz', 'SJANo1', 1765, 'El-Merendero', 1811, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Be7,Ng5,O-O,Nxf7,Rxf7,Bxf7+,Kxf7,d3,d6,O-O,Bg4,Qe1,Qd7,h3,Bh5,Nd5,Kg8,Nxf6+,Bxf6,f4,exf4,Bxf4,Rf8,Qg3,Nd4,Kh1,Nxc2,Rab1,Nd4,Rf2,Qe7,Rbf1,Bh4,Bxd6,Bxg3', 'Rxf8+,Qxf8,Rxf8#', 'https://lichess.org/training/Be3oq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BE41g', 'Rapid', 'phiwe', 1869, 'kons92', 1850, 'c4,e5,Nc3,Nc6,g3,Nf6,Bg2,d6,d4,exd4,Bxc6+,bxc6,Qxd4,Be7,Bg5,Bb7,f3,O-O,O-O-O,c5,Qd3,Ng4,Bxe7,Qxe7,Nh3,Ne3,Rd2,Rab8,Nf4,g5,Nfd5,Bxd5,Nxd5,Nxd5,Qxd5,Qf6,h4,Rb4,hxg5,Qg6,Rh6,Qg7,e4,c6,Qd3,Rfb8,Rf6,Qxg5,Rf4,Qxg3', 'Rg4+,Qxg4,fxg4', 'https://lichess.org/training/BE41g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('be5NH', 'Rapid', 'eoi', 1978, 'VLADIMIR007', 1822, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Nf6,d3,Be7,c3,O-O,h3,a6,Ba4,b5,Bc2,h6,Nbd2,Nh7,Qe2,Bg5,Nxg5,Nxg5,Nf3,Nxf3+,Qxf3,Ne7,Qg3,Ng6,f4,exf4,Bxf4,Nxf4,Rxf4,Qg5,Qf3,Ra7,Rf1,c6,Kh1,Be6,Rg4,Bxg4,hxg4,d5,exd5,Qxd5,Qf2,Re7,d4,Qxa2,Qf5,g6,Qf4,Kg7', 'Qf6+,Kg8,Qxe7', 'https://lichess.org/training/be5NH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Be6xB', 'Rapid', 'Ishan2003', 1973, 'Ruhrpirat', 2031, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,h5,Bc4,e6,Nxc6,bxc6,e5,Nd5,Ne4,Qc7,f4,Be7,O-O,a5,Qf3,Ba6,Bxa6,Rxa6,Bd2,a4,Rae1,h4,f5,Qxe5,fxe6,Qxe6,Nc5,Bxc5+,Kh1,Ne3', 'Bxe3,Bxe3,Rxe3,O-O,Rxe6', 'https://lichess.org/training/Be6xB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Be8Hu', 'Blitz', 'FM NAARD', 2288, 'fuegodejavu', 2239, 'd4,c5,e3,Nf6,Nf3,d5,a3,g6,dxc5,Bg7,Nc3,O-O,Be2,Qc7,b4,Rd8,Rb1,Ng4,Bb2,e5,Nb5,Qe7,Nd6,Be6,h3,Nh6,O-O,Nc6,Qd2,e4,Bxg7,exf3,Bxh6,fxe2,Qxe2,b6,c4,dxc4,f4,Rxd6,cxd6,Qxd6,Rbd1,Qe7,e4,Bxh3,gxh3,Qh4,Bg5,Qg3+,Qg2,Qe3+,Kh2,c3,Rd7,Nd4,e5,Rc8,Qd5,Qe2+,Kg3', 'Nf5#', 'https://lichess.org/training/Be8Hu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bEA9j', 'Blitz', 'Forceman30000', 1651, 'AKTwistTwik', 1860, 'e4,e5,Nf3,Nc6,Bb5,Nf6,O-O,d6,d4,exd4,Nxd4,Bd7,Nxc6,Bxc6,Bxc6+,bxc6,Bf4,Be7,Nc3,O-O,e5,dxe5,Qxd8,Raxd8,Bxe5,Bd6,Bxf6,gxf6,Ne4,Be5,c3,f5,f4,Bxf4', 'Nf6+,Kg7,Nh5+,Kh6,Nxf4', 'https://lichess.org/training/bEA9j');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bEAW7', 'Bullet', 'theoP75', 2427, 'FM calinsah', 2374, 'g4,e5,Nc3,h5,e3,hxg4,d4,exd4,exd4,Nf6,Nge2,d5,Bg5,Nc6,a3,Be7,Bg2,Be6,Qd2,Qd7,Ng3,O-O-O,O-O-O,a6,Rde1,Na5,Bf1,Nc4,Qd3,Qc6,f4,gxf3,Qxf3,Bg4,Qf2,Rhe8,Bxc4,Qxc4,h3,Bxa3,Rxe8,Rxe8,bxa3,Qxc3,hxg4,Qxa3+,Kd2', 'Qxg3,Qxg3,Ne4+,Kc1,Nxg3', 'https://lichess.org/training/bEAW7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BEBW6', 'Rapid', 'yasinhavuz', 1665, 'RomoloPaula', 1713, 'e4,c5,Nf3,d6,Bc4,Nf6,d3,h6,Nc3,Bg4,Nd5,e6,Bb5+,Nbd7,Ne3', 'Qa5+,Bd2,Qxb5,Nxg4,Nxg4', 'https://lichess.org/training/BEBW6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bEC5u', 'Rapid', 'apacherev', 2162, 'techhelpstew', 2118, 'd4,Nf6,Nf3,g6,Bg5,h6,Bxf6,exf6,e3,d5,Nc3,Be6,Bb5+,c6,Bd3,Qc7,O-O,Bd6,e4,dxe4,Nxe4,Be7,Qe2,Nd7,Ng3,Qd6,Rae1,Rg8,Bc4,Nf8,Ne4,Qd8,a3,Bxc4', 'Nxf6#', 'https://lichess.org/training/bEC5u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bEc6s', 'Classical', 'kencoder', 1794, 'tolyasik102', 1864, 'e4,f5,Nc3,fxe4,Nxe4,d5,Ng3,Nf6,d4,Bg4,Nf3,h5,h3,Be6,Ng5,Qd6,Be3,Bg8,Nf5,Qb4+,c3,Qxb2,Rb1,Qxc3+,Bd2,Qc6,Rc1,Qd7,Bd3,Nc6,O-O,O-O-O,Re1,e6,Qf3,Re8,Bb5,exf5,Rxe8+,Qxe8,Re1,Ne4,Qxf5+,Qd7,Qxf8+,Qd8,Qxg7,Nxd2,Qxh8,Qxg5,Re8+,Nd8,Rxg8,Nf3+,Kf1,Qc1+,Ke2,Ng1+,Kd3,Qa3+,Kc2,Qxa2+,Kc3,Qa3+,Kd2,Qb4+,Ke3,Qc3+,Kf4,Qd2+,Kg3,Qc3+,f3,Qe1+,Kf4,Qh4+,Rg4,Qe1,Qxh5,Ne6+,Kf5,Nd8,Rg8', 'Qe6+,Kf4,Qxg8', 'https://lichess.org/training/bEc6s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bed8f', 'Rapid', 'corncrake100', 1704, 'Falstaff', 1708, 'e4,c5,Nf3,g6,d4,Bg7,dxc5,Qa5+,Nc3,Qxc5,Bd2,d6,Be2,Nf6,O-O,O-O,Be3,Qb4,Nd5,Nxd5,Qxd5,Be6,Qb5,Qxb5,Bxb5,Bxb2,Rab1,Bg7,Bd3,b6,a4,Nc6,Ng5,Bd7,f4,Bd4,Bxd4,Nxd4,f5,f6,Bc4+,Kg7,Ne6+,Bxe6,fxe6,Rac8,Bb5,Nxb5,axb5,Rxc2,Ra1,Rb2,Rxa7,Rxb5,Rxe7+,Kg8,Rd7,Re5,Rxd6,Rb8,Rxf6,Rb7,Rd7,Rxe6', 'Rd8+,Kg7,Rxe6', 'https://lichess.org/training/Bed8f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('beDjc', 'Classical', 'Fazalkhan', 1717, 'Chizhov_Roman', 1705, 'e4,c6,Nf3,d5,exd5,cxd5,Bd3,Bg4,Bb5+,Nd7,d3,Nf6,Be3,Bxf3,Qxf3,a6,Ba4,e5,c3,Be7,b4,O-O,Nd2,Rc8,Rc1,Bxb4,O-O,Bxc3,Nb1,Bb4,Rxc8,Qxc8,Rc1,Qd8,a3,b5,Bb3,e4,dxe4,dxe4,Qg3,Nh5,Qh3,Bc5,Qxh5,Bxe3,fxe3,Nf6,Qe2,h6,Rf1,Qb6,Nd2,Re8,Qf2,a5,Bd5,Re7,Bxe4,b4,Bf3,bxa3,Nc4,Qb4,Qa2,Rc7,Nxa3,Qa4,Bd1,Qe4,Qd2,Rd7,Qc1,Qb4,Qc8+,Qf8,Qxf8+,Kxf8,Nc4,Rd3,Nxa5,Rxe3,Nc4,Re7,Bf3,g6,h3,h5,Rd1,Ne4,Rd8+,Kg7,Ne3,Ng5,Nd5,Nxf3+,gxf3,Re2,Nf4,Ra2,Rd7,Ra1+,Kg2,Ra2+,Kg3,g5,Nxh5+,Kg6,Kg4', 'Rg2+,Ng3,f5#', 'https://lichess.org/training/beDjc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BEDs2', 'Rapid', 'Saladin2', 2073, 'PatrickSavattier', 2149, 'e4,d6,d4,Nf6,Nc3,Nbd7,Nf3,e5,Bc4,Be7,O-O,O-O,h3,c6,a4,b6,Be3,Bb7,Qe2,a6,Rfd1,Qc7,b4,d5,Bd3,Bxb4,Na2,Bd6,dxe5,Nxe5,exd5,Nxd5,Rab1,Rfe8,c4,Nxe3,Qxe3,Nxd3,Qxd3,Rad8,Qc2,c5,Ng5,g6,Nc3,Qe7,Qc1,Bc7,Rxd8,Rxd8,Rb2,Rd3,Re2,Rxc3,Qd2,Qd6', 'Re8+,Kg7,Qxc3+', 'https://lichess.org/training/BEDs2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bEDTA', 'Blitz', 'CzwartyWymiar', 1955, 'yohnnny', 2039, 'Nc3,Nf6,e4,c6,f4,d5,Nf3,Nxe4,d4,Nxc3,bxc3,Bg4,Be2,e6,O-O,Nd7,Ne5,Bxe2,Qxe2,Bd6,Be3,g6,Qg4,Nf6,Qh4,Ne4,Qh6,Bf8,Qh3,Nxc3,f5,exf5,Rae1,Ne4,Bf4,Bg7,Qe3,O-O,Bh6,f6,Bxg7,Kxg7,Nf3,Re8,Qc1,b5,Nh4,Qb6,c3,b4,Rxf5,gxf5,Nxf5+,Kh8,Qh6,Qc7,Rxe4,Rxe4', 'Qxf6+,Kg8,Nh6#', 'https://lichess.org/training/bEDTA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('beEgS', 'Rapid', 'harleyk', 1717, 'chetan16', 1744, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,Nf6,Nc3,d6,Bc4,Be6,Bxe6,fxe6,O-O,e5,Qd3,Be7,f4,O-O,f5,h6,Qg3,Kh8,Qg6,c6,Kh1,d5,Rf3,dxe4,Rh3,Qe8,Qg3,Bb4', 'Bxh6,gxh6,Rxh6+', 'https://lichess.org/training/beEgS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BEFiA', 'Classical', 'JoseLlado', 1762, 'idol1990', 1760, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Nf6,a3,d6,h3,Qe7,d4,exd4,Nxd4,Nxe4,O-O,Nxc3,bxc3,Qf6,Nxc6,bxc6,Bb2,d5,Bb3,Be6,Re1,Bc5,Qd2,O-O,Rab1,Rfe8,c4,Qd8,cxd5,cxd5,Qf4,Bd6,Qd4,Qg5,Bc1,Qg6,Qh4,Be7,Qg3,Qxg3,fxg3,Bf6,Bf4,c5,Ba4,Red8,Bc7,Rdc8,Bc6,Bc3,Red1,Bf5,Rxd5,Bxc2,Rc1,Bd4+,Kh2,Be4,Rxd4', 'Bxc6,Rdc4,Rxc7,Rxc5,Rac8', 'https://lichess.org/training/BEFiA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BEgiz', 'Blitz', 'tricky115', 1713, 'ccherono', 1701, 'e4,e5,Nf3,d6,Bc4,Be7,O-O,Nc6,h4,a6,g3,Nf6,Nc3,Na5,Bd5,Nxd5,Nxd5,Bf8,d4,exd4,Nxd4,Bd7,Qf3,Nc6,Nf5,Be6,Bg5,f6,Qh5+,g6', 'Nxf6+,Qxf6,Bxf6,gxh5,Bxh8', 'https://lichess.org/training/BEgiz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('begw5', 'Classical', 'DhavalDesai', 1721, 'Zaigham786', 1722, 'd4,Nf6,e3,g6,a3,Bg7,Nc3,O-O,Nf3,d5,Bd3,a6,h3,b5,b4,Bb7,Nh4,Qd7,Nf3,Qc6,Bd2,a5,Bxb5,Qb6,bxa5,Rxa5,Bd3,Ba6,O-O,Bxd3,cxd3,Ra8,Qc2,Nbd7,Rfb1,Qa6,Nb5,Ne8,Nxc7,Nxc7,Qxc7,Nf6,Rb3,Rfc8,Qxe7,Rab8,Bb4,Rb7,Qd6', 'Qxd6,Bxd6,Rxb3', 'https://lichess.org/training/begw5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bEGxZ', 'Rapid', 'fulanito17', 1830, 'Snow-White', 1826, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Nxe5,Nxe5,d4,Ng6,e5,Ng8,Bc4,Bb4,Qf3,Qe7,Bg5,f6,Bh4,Bxc3+,Qxc3,Nxh4,O-O-O,Nh6,exf6,Qxf6,g3,N4f5,Rhe1+,Ne7,h3,d6,g4,Qf4+,Kb1,Bd7,Qa5,d5,Bxd5,Bc6,Bb3,Nf7,d5,O-O,dxc6,Nxc6,Qh5,Rad8,Rxd8,Rxd8,Qd5,Qxf2', 'Qxd8+,Nxd8,Re8#', 'https://lichess.org/training/bEGxZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BEHGx', 'Rapid', 'phantom355', 1869, 'boss6465', 1736, 'c4,e5,e4,c5,Nc3,Nc6,Nf3,d6,a3,Be6,Be2,Nf6,d3,Be7,O-O,O-O,h3,Ne8,Bd2,f5,exf5,Bxf5,Nb5,a6,Nc3,Nf6,Rb1,e4,dxe4,Nxe4,Nd5,Nxd2,Qxd2,Bxb1,Rxb1,Bf6,b4,b6', 'Nxf6+,Qxf6,Qd5+,Kh8,Qxc6', 'https://lichess.org/training/BEHGx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BEhvs', 'Blitz', 'ddc97', 1911, 'WFM bobbyyy67', 2278, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,d4,g6,Bc4,Bg7,O-O,O-O,Bg5,h6,Be3,b6,Ne5,Bb7,f4,Nd5,Nxd5,Bxd5,Bd3,Nc6,c4,Nxe5,fxe5,Bb7,Qd2,Kh7,Rad1,c5,dxc5,bxc5,Bxc5,Qc7,Bd4,Bxe5,Bxe5,Qxe5,Rde1,Qd4+,Qe3,Qxb2,Qxe7', 'Qxg2#', 'https://lichess.org/training/BEhvs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bei45', 'Classical', 'Ashot-Gevorkyan_2009', 1902, 'KnyazzRoo', 2008, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nc6,c3,Qc7,h3,Nf6,Nf3,g6,Nbd2,Bf5,Bxf5,gxf5,Nb3,e6,Be3,Rg8,Rg1,Ne4,Nc1,Bd6,g3,O-O-O,Nd3,Na5,Nfe5,f6,Nf3,Nc4,Bf4,Bxf4,Nxf4,Nxb2,Qc2,Qxc3+', 'Qxc3+,Nxc3,Rc1', 'https://lichess.org/training/Bei45');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bEifQ', 'Rapid', 'Mi2Chld', 1846, 'jelev1', 1918, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,d5,exd5,Nb4,Re1,Nbxd5,Rxe5+,Be6,Ng5,Bxf2+,Kh1,O-O,Nxe6,fxe6,Qe2,Bd4,Rxe6,Ng4,Bd2,Rf2,Qe1,Qh4,Re8+,Rxe8', 'Qxe8+,Rf8,Bxd5+,Kh8,Qxf8#', 'https://lichess.org/training/bEifQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('beiP4', 'Blitz', 'adit_bagus', 1764, 'johnnyb79', 1692, 'e4,e5,Bc4,Nc6,Qf3,Nf6,c3,h6,h3,Bc5,b4,Bb6,a4,a6,Ne2,Ba7,Qg3,O-O,O-O,Kh8,d3,d5,exd5,Nxd5,d4,exd4,b5,axb5,axb5,Nce7,cxd4,Ng6,Bxd5,Qxd5,Qxc7,Qe6,Bb2,Qxe2,Bc3,Qe7,Qg3,Qd7,Qe3,Qxb5,Rxa7,Rxa7,d5,Ra8', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/beiP4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bEJ89', 'Blitz', 'AspiringNovice', 1552, 'jcheq', 1559, 'g3,e5,Bg2,Nf6,d3,Nc6,f4,d6,h3,h5,g4,hxg4,hxg4,Rxh1,Bxh1,Bxg4,Bf3,Qd7,e4,Bxf3,Qxf3,O-O-O,Be3,Nd4,Bxd4,exd4,f5,d5,Ne2,dxe4,dxe4,d3,cxd3,Bb4+,Nbc3,Qc6,a3,Bxc3+,Nxc3,Qd6,O-O-O,Qc6,Qe3,a6,Qg3,Re8,Qxg7,Qd6,Qxf7,Ng4,Nd5,Rh8,Qe6+,Qxe6,fxe6,Re8,Nf4,Ne3,d4,Nxd1,Kxd1,Kd8,d5,Ke7,Ke2,Kd6,b4,c6,Kd3,Ke5,Ng6+,Kd6,Kd4,b6,Ne5,c5+,bxc5+,bxc5+,Kc4,Kxe5,Kxc5,Kxe4,d6,Rxe6,d7,Re5+,Kd6,Rd5+,Kc7,a5,d8=Q,Rxd8,Kxd8,Kd4,Kc7,Kc4,Kb6', 'a4,Kc6,Kb3,Kc5,Kxa3,Kc4,Kb2', 'https://lichess.org/training/bEJ89');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BeJR8', 'Rapid', 'viktor_winner', 1626, 'Vithaphyr', 1778, 'b4,Nf6,Bb2,e6,b5,Be7,e3,O-O,a4,b6,Nf3,Bb7,Be2,d5,O-O,Nbd7,d4,c6,c4,dxc4,Bxc4,cxb5,axb5,Nd5,e4,Nc7,d5,exd5,exd5,Nf6,Ba3,Bxa3,Rxa3,Bxd5,Rd3,Qe8,Bxd5,Ncxd5,Rxd5,Nxd5,Qxd5,Qe2,Nc3,Qc2,Ne4,Rfd8,Qf5,Rd1', 'Nf6+,gxf6,Qxc2', 'https://lichess.org/training/BeJR8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bEK5x', 'Rapid', 'hadavand', 1821, 'Greminja', 1857, 'e4,Nf6,e5,Nd5,c4,Nb6,d4,d6,f4,dxe5,fxe5,Nc6,Nf3,Bg4,Nc3,Nxd4', 'Qxd4,Qxd4,Nxd4', 'https://lichess.org/training/bEK5x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bekkg', 'Blitz', 'waltc', 1922, 'gmblackburn', 1826, 'Nf3,c6,c4,d5,cxd5,cxd5,d4,Nf6,Bf4,Bg4,Nc3,e6,Qb3,Qd7,Ne5,Qc8,Nb5,a6,Rc1,Nc6,Na3,Bb4+,Kd1,Be7,Qb6,O-O,Nxc6,bxc6,Rxc6,Qb8,Bxb8,Raxb8,Qa7,Bxa3,bxa3,Rb1+,Kc2,Rfb8,Rc7,Bf5+,Kd2,Ng4,e4,Bxe4,f3', 'R8b2+,Rc2,Rxc2#', 'https://lichess.org/training/bekkg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BELgJ', 'Rapid', 'Eric_Ardo', 1639, 'fatihkirik30', 1720, 'e4,c5,Nf3,Nc6,Bc4,e6,d4,cxd4,Nxd4,Bc5,Be3,d5,exd5,exd5,Bb3,Nxd4,Bxd4,Qa5+,c3,Bxd4,Qxd4,Nf6,O-O,Be6,Re1,O-O,Nd2,Rad8,Nf3,Qc7,Qxa7,Bg4,Nd4', 'Ra8,Qa4,Rxa4', 'https://lichess.org/training/BELgJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BELwG', 'Rapid', 'mechkaa', 1658, 'nmachnik', 1683, 'd4,d5,c4,e6,Nc3,Bb4,e3,c6,a3,Bxc3+,bxc3,b6,Nf3,Nf6,Bb2,O-O,Bd3,h6,Qc2,Ba6,O-O-O,Nbd7,Ne5,Nxe5,dxe5,Ne4,Bxe4,Bxc4,Bd3,b5,Bxc4,bxc4,e4,Rb8,f4,g6,h4,h5,exd5,cxd5,Kb1,Rb3,Ka2,Qb6,Rd4,Rb8,Rb1,a5,Rdd1,a4,g3,Kg7,Rd4,f6,exf6+,Kxf6,Qe2', 'Rxa3+,Kxa3,Qb3#', 'https://lichess.org/training/BELwG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bELxn', 'Blitz', 'BitterPartner', 1908, 'SHANKAR1501', 1940, 'd4,c6,c4,d5,Nf3,Nf6,g3,e6,Bg2,Be7,O-O,Ne4,Nbd2,f5,Qc2,O-O,Ne1,Bg5,f3,Nf6,e4,fxe4,fxe4,Nxe4,Nxe4,Bxc1,Rxc1,dxe4,Qxe4,Rxf1+,Kxf1,Qf6+,Kg1,Nd7,Nd3,Nb6,Rf1,Qe7,Bh3,Nxc4,Qe2,b5,Nf4,Bd7,Bxe6+,Bxe6,Qxe6+,Qxe6,Nxe6,Nxb2,Nc5,a5,Ne4,a4,Nd6,b4,Rc1,b3,axb3,axb3,Rxc6,Nd3,Rb6,b2,Kg2,h6,Nc4,Rd8,Nxb2,Nxb2,Rxb2,Rxd4,Rb8+,Kh7,Kf3,Kg6,Rb6+,Kh7,h4,Rd3+,Kf4,Ra3,Rb4,Ra7,g4,Rf7+,Ke5,g6,h5,Re7+,Kf6,Ra7', 'hxg6+,Kh8,Rb8#', 'https://lichess.org/training/bELxn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BEN3g', 'Classical', 'arhdv', 2046, 'KingZlatan', 2164, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Bb4,e5,h6,Bd2,Bxc3,bxc3,Ne4,Qg4,Kf8,Bd3,Nxd2,Kxd2,c5,h4,Nc6,Rh3,c4,Be2,b5,a3,a5,Rg3,Rg8,Nh3,Bd7,Nf4,Ne7,Nh5,Nf5,Nf6,Rh8,Nxd7+,Qxd7,Qf4,Nxg3,fxg3,Ke7,Bh5,Rhf8,Rf1,Ke8,Bf3,Rb8,Qg4,b4,axb4,axb4,cxb4,c3+,Ke2,Rxb4,Kf2,Qa4,Rd1,Qxc2+,Kg1,Rb1,Kh2,Rxd1,Bxd1,Qd2,Ba4+,Ke7,Qxg7,Qf2,Qxh6,Qxd4', 'Qf6#', 'https://lichess.org/training/BEN3g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bENMd', 'Rapid', 'burgundus', 1611, 'Vanbasten1988', 1610, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,Nc3,c5,dxc5,Bxc5,Qb5+,Nd7,Qxb7,Rb8,Qa6,Qb6,Qxb6,axb6,Nf3,Ne7,Bg5,Ng6,Nb5,O-O,O-O-O,Ndxe5,Nxe5,Nxe5,Bf4,f6,Nc7,Bxf2,Nxe6,Rf7,Rhf1,Bc5,Bxe5,fxe5,Rxf7,Kxf7,Nxc5,bxc5,Rxd5,Ke6,Rxc5,Ra8,Kb1,Rf8,a4,Rf1+,Ka2,Rf2,c4,e4,Rc7,e3,Rc8,Kd7,Rc5,e2,Re5,Kd6,Re3,Rxg2,a5,Kc6,Ka3,Rxh2,b4', 'Rh3,Rxh3,e1=Q', 'https://lichess.org/training/bENMd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bEO8a', 'Rapid', 'Teimen', 1897, 'Afif47', 1900, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nf6,Nc3,Nc6,Be3,Bb4,Bd3,d5,exd5,Nxd5,Nxc6,bxc6,Bd2,Rb8,Rb1,Nxc3,bxc3,Bd6,Rxb8,Bxb8,Qg4,Be5,Qe4,Qd6,f4,Bf6,O-O,a6,Rb1,Qd7,Rb8', 'Qa7+,Be3,Qxb8', 'https://lichess.org/training/bEO8a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bequb', 'Rapid', 'HaBe2402', 1883, 'EKA7777', 1830, 'e4,e5,f4,exf4,Nf3,g5,Bc4,g4,Bxf7+,Kxf7,Ne5+,Ke8,Qxg4,Qf6,d4,d6,Qh5+,Ke7,Nf3,Nc6,c3,Nh6,O-O,Bg4,Qg5,Bxf3,Qxf6+,Kxf6,Rxf3,Bg7,Bxf4,Ke7,Nd2,Ng4,Raf1,Raf8,Bg5+,Kd7', 'Rf7+,Rxf7,Rxf7+,Kc8,Rxg7', 'https://lichess.org/training/Bequb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BEqVP', 'Rapid', 'milum', 2097, 'ajayvaishnav', 2064, 'e4,d6,d4,e5,dxe5,dxe5,Qxd8+,Kxd8,Nc3,c6,Bc4,f6,f4,Bd6,fxe5,Bxe5,Nf3,Bxc3+,bxc3,Bg4,h3,Bh5,Ba3,Nh6,O-O-O+,Kc7,Bd6+,Kb6,Kd2,a5,Rb1+,Ka7,Bc5+,b6,Rxb6,Nd7,Ra6+,Kb7,Rb1+,Kc7,Nd4,Rxa6', 'Ne6+,Kc8,Bxa6#', 'https://lichess.org/training/BEqVP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BeR4l', 'Rapid', 'mr1358', 1699, 'Drkgkdmr', 1647, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Nc3,d6,Nd5,Nxe4,d3,Nf6,Bg5,Be7,Bxf6,Bxf6,O-O,O-O,Re1,a6,Bxc6,bxc6,Nc3,Re8,Ne4,Be7,d4,d5,Nc5,e4,Ne5,Bxc5,Nxc6,Qd7,Ne5,Rxe5,dxe5,Qf5,Rf1,a5', 'Qxd5,Ra6,Qxc5', 'https://lichess.org/training/BeR4l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bErqo', 'Blitz', 'Jpasbel', 1955, 'MejiAraujo', 1853, 'd4,d5,c4,e6,Nc3,c6,cxd5,exd5,Bf4,f5,e3,Nf6,f3,Bd6,Be5,O-O,f4,Ng4,Qf3,Bxe5,dxe5,Nh6,Bd3,g6,Nge2,Qh4+,Ng3,Be6,O-O,Nd7,a3,Nc5,b4,Ne4,Bxe4,fxe4,Qe2,Ng4,Rfe1,Qxh2+,Kf1,Nh6,Kf2,Ng4+,Qxg4,Bxg4,Rh1,Qxh1,Rxh1,h5,Nce2,a5,b5,g5,Nxh5,Bxe2,Kxe2,gxf4,exf4,cxb5,Nf6+,Rxf6,exf6,Rc8,Ke3,Rc3+,Kd4,Rxa3,Kxd5,e3,Ke6,e2,Re1,Re3+,Kf5,Kf7', 'g4,a4,g5,a3,g6+', 'https://lichess.org/training/bErqo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bEuRZ', 'Blitz', 'barisandi', 1524, 'PrimoDDD', 1530, 'e4,e5,Bc4,Nf6,d3,Bc5,Bg5,O-O,Nd2,Nc6,Ngf3,a6,a3,b5,Ba2,d6,b4,Ba7,O-O,Bg4,h3,Bh5,Bxf6,Qxf6,Bd5,Nd4,Bxa8,Nxf3+,Nxf3,Bxf3,Qxf3,Qxf3,gxf3,Rxa8,Kh2,Re8,c3,Re6,Ra2,c6,Rg1,g6,h4,h5,Kh3,Bb6,Rg2,Bd8,a4,Rf6,axb5,Rxf3+,Rg3,Rf4,bxc6,Rxh4+,Kg2,Rf4,Rxa6,h4,Rg4,Rxg4+,Kf1,h3,b5,h2,Ra8,h1=Q+,Ke2,Kg7,Rxd8,Rf4,c7,Qg2,c8=Q,Qxf2+,Kd1,Qf1+,Kc2', 'Rf2+,Kb3,Qb1+,Kc4,Qa2+,Kb4,Rb2#', 'https://lichess.org/training/bEuRZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BEutr', 'Rapid', 'Gerild', 1776, 'DATTADEVKHILE', 1780, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,d5,exd5,Nxd5,d3,Be7,Bb5,Bg4,Nbd2,Bg5,Bxc6+,bxc6,h3,Bh5,g4,Bg6,Nxg5,Qxg5,Nc4,Qh4,Kh2,h5,Nxe5,O-O,f4,Nf6,Be3,hxg4,Nxg4,Bf5,Nxf6+,Qxf6,Rg1,Rae8,Bc5,Qh6,Qf3,Re2+,Rg2,Rxg2+,Kxg2,Re8,Kf2,Bxh3,Rh1', 'Qh4+,Qg3,Re2+,Kxe2,Qxg3', 'https://lichess.org/training/BEutr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bewdO', 'Blitz', 'holihup', 1902, 'Dent5l', 1963, 'd4,d5,Bf4,Nf6,e3,Ne4,Nd2,f5,Nxe4,fxe4,Qh5+,g6,Qh4,Bg7,Bh6,Bf6,Qg3,c5,c3,cxd4,exd4,Qb6,O-O-O,Bf5,Ne2,Na6,Nf4,Rd8,Bg5,Bg7,Qh4,O-O,Bxe7,Rc8,Bxf8,e3,Bxg7', 'Rxc3+,bxc3,Qb1#', 'https://lichess.org/training/bewdO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BeWQz', 'Rapid', 'lasest', 1653, 'Elektriker', 1629, 'e4,d6,Nf3,Nf6,Nc3,g6,d4,Bg7,Be3,O-O,h3,b6,Bd3,Bb7,Qd2,Nbd7,O-O-O,c5,d5,Re8,Rhg1,e6,dxe6,Rxe6,Ng5,Re7,g4,h6,Nf3,d5,e5,Nxe5,Nxe5,Rxe5,Bxh6,d4,Nb5,Qd7,f4,Re3,g5,Nd5,h4,Nxf4,Bc4,Bf3', 'Qxe3,dxe3,Rxd7', 'https://lichess.org/training/BeWQz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bewvm', 'Rapid', 'ChuckmateNorris', 1870, 'Elizik', 1819, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,h4,h6,Bd3,Bxd3,Qxd3,e6,Bf4,Ngf6,O-O-O,Qa5,Kb1,O-O-O,Qb3,Nd5,Bd2,Qb6,Qxb6,N7xb6,Be3,Nc4,Rhe1,Bb4,c3,Bxc3,bxc3,Nxc3+,Kc2,Nxd1,Rxd1,Nxe3+,fxe3,c5,Ne5,Rhf8,Ne4,cxd4,exd4,f6,Ng6,Rf7,Kd3,e5,Rc1+,Kb8,Rc4,exd4,Rb4,b6,Nc5,Rc7', 'Na6+,Kb7,Nxc7', 'https://lichess.org/training/Bewvm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bex4z', 'Rapid', 'Tolik1200', 1728, 'Shoaib_Ib', 1647, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Nc3,O-O,e5,Ne4,Qd3,Nxc3,bxc3,Be7,O-O,d5,Bb3,Bg4,Bc2,g6,Bh6,Re8,h3,Bxf3,Qxf3,Bg5,Bxg5,Qxg5,Qxd5,Ne7,Qxb7,Nf5,Bxf5,Qxf5,a4,Reb8,Qxc7,Rc8,Qb7,Qd3,Rac1,a5,d5,Rab8,Qd7,Rd8,Qc7,Rbc8,Rfd1', 'Qxd1+,Rxd1,Rxc7', 'https://lichess.org/training/Bex4z');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bEx9Q', 'Classical', 'electroon', 1825, 'RabbiGambit', 1927, 'd4,d5,Bf4,Nf6,e3,e6,Nf3,c5,c3,Nc6,Qb3,c4,Qc2,Bd6,Bg3,O-O,Nbd2,b5,b3,a5,a4,b4,bxc4,bxc3,Qxc3,Bb4,Qb3,Ba6,c5,Ne4,Bd6,Nxd6,Bxa6,Rxa6,cxd6,Qxd6,O-O,Rb8,Qc2,Bxd2,Qxd2,Qb4,Qd3,Rab6,Nd2,h6,Rfb1', 'Qxd2,Qxd2,Rxb1+,Qc1,Rxc1+', 'https://lichess.org/training/bEx9Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bexGP', 'Rapid', 'AbdullahAlok1974', 1687, 'Uveequis', 1609, 'e4,b6,Nc3,Bb7,b3,e6,Bb2,Nf6,e5,Nd5,Nxd5,Bxd5,c4,Bb7,Nf3,Be7,Bd3,f6,O-O,fxe5,Bxe5,O-O,Qe2,Bxf3,gxf3,Bf6,Qe4,g6,Bxf6,Qxf6,Qxa8,c6,Qxa7,Qxf3,Bc2,Qf4,Rad1,Kg7,Qxb6,Qg4+,Kh1,Qf3+,Kg1,Rf4,h3', 'Qxh3,Qe3,Rg4+', 'https://lichess.org/training/bexGP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bexhy', 'Rapid', 'marcsterk06', 2162, 'VidalTN', 2202, 'd4,c5,d5,f5,c4,Nf6,Nc3,g6,g3,Bg7,Bg2,d6,Bd2,O-O,Nh3,Na6,a3,Nc7,Nf4,a6,a4,Rb8,O-O,g5,Nd3,h6,b4,b6,Rb1,Bd7,a5,bxa5,bxa5,Ng4,h3,Ne5,Nxe5,Bxe5,Qc2,Kg7,Rxb8,Qxb8,Rb1,Qa7,Na4,Rb8,Nb6,Be8,Bc3,Bxc3,Qxc3+,Kh7,e4,Bg6,exf5,Bxf5,Re1,Ne8,g4,Bg6,Re6,Nf6,Qe3,Re8,Nc8,Qc7,Nxe7,Qxa5,Rxf6', 'Qa1+,Bf1,Qxf6,Nxg6,Rxe3', 'https://lichess.org/training/Bexhy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bey9r', 'Classical', 'Buss419', 1720, 'Marioparty', 1625, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd1,g6,Bg5,Bg7,Nd2,Qb6,Nc4,Qb4+,c3,Qc5,Nf3,e6,Nd6+,Kf8,b4', 'Qxc3+,Bd2,Qxa1,Qxa1,Bxa1', 'https://lichess.org/training/Bey9r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Beyjo', 'Blitz', 'alekc6132', 1925, 'Leandro40', 1944, 'e4,c5,Nc3,Nc6,f4,e5,fxe5,Nxe5,Nf3,d6,d4,cxd4,Qxd4,Nxf3+,gxf3,Nf6,Bg5,h6,Bh4,Be7,O-O-O,O-O,Bc4,Be6,Bxe6,fxe6,f4,Kh8,Rhg1,Qd7,e5,Ne8,Bxe7,Qxe7,exd6,Qd7,Ne4,b6,Rg6,Rf7,Rxh6+,Kg8,Rg6,Rc8,Ng5,Rf6,Rxf6,Nxf6,Rg1,Rd8,Qe5,Qxd6,Nxe6', 'Qd2+,Kb1,Qd1+,Rxd1,Rxd1#', 'https://lichess.org/training/Beyjo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BeZib', 'Rapid', 'kolj', 2056, 'HamdiMohsen', 2002, 'e4,c5,f4,e6,Nf3,d6,Bc4,Nc6,O-O,Nf6,d3,Be7,e5,dxe5,fxe5,Nd5,Nc3,Ncb4,a3,Nxc3,bxc3,Nd5,Bb5+,Bd7,Bxd7+,Qxd7,c4,Nb6,Ng5', 'Qd4+,Kh1,Qxa1', 'https://lichess.org/training/BeZib');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bf20A', 'Blitz', 'fauder77', 1533, 'jamaram', 1543, 'd4,Nf6,Nf3,Nc6,Bf4,e6,e3,d5,c3,Ne7,Bd3,Ng6,Bg3,c5,Nbd2,c4,Bc2,b5,a3,Bd6,Qe2,O-O,e4,dxe4,Nxe4,Bb7,Nxf6+,gxf6,Qd2,Kh8,O-O-O,a5,h4,Qc7,h5,Bxg3,hxg6,Bf4,Rxh7+,Kg8,Rdh1,Bxd2+,Kxd2,Qf4+,Ke2,fxg6', 'Rh8+,Kf7,R1h7+,Ke8,Bxg6+,Kd8,Rxf8#', 'https://lichess.org/training/bf20A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bF4BI', 'Rapid', 'Etwass', 1839, 'ahmedhmor', 1845, 'c4,Nf6,Nc3,e6,e4,g6,e5,Nh5,d4,Nc6,g4,Ng7,h4,h5,Be2,Be7,g5,Bb4,Be3,Nf5,a3,Be7,Bf3,b6,d5,Nxe5,d6,Bxd6,Bxa8,Nxe3,fxe3,Nxc4,Qe2,Bg3+,Kd1,Ba6,Be4,d5,Bd3,O-O,b3,d4,bxc4,dxc3,Kc2,Qa8,Nf3,Rd8,Rhf1,e5,e4,Bf4,Rf2,Qc6,a4,Qc5,Rff1,Qd6,a5,bxa5,Rxa5,Qb4,Rxa6', 'Qb2+,Kd1,Qc1#', 'https://lichess.org/training/bF4BI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BF5na', 'Rapid', 'jukkoleso', 1907, 'RoblesMax', 1919, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,Bg4,Be2,Nc6,h3,Bf5,d3,O-O-O,Be3,e5,O-O,h6,Nh4,Bd7,Bf3,Qd6,Bxc6,Bxc6,Qe2,Be7,Nf5,Qf6,Nxe7+,Qxe7,Qg4+,Bd7,Qg3,f5,f4,g5,Rae1,exf4,Bxf4,gxf4,Qxf4,Qc5+,Kh1,Rhg8,d4,Qd5,Rf2,Qxa2,c4,Qa5,Ree2,Kb8,Qxh6,Rh8,Qf4,Rdg8,Kh2,Rg7,b3,Rhg8,d5,Ka8,Qe3,f4,Rxf4,Qa1,Rff2,Qb1,Ra2,Rh7,Qg3,Rb8,Qxc7,Bxh3', 'Rxa7+,Kxa7,Qa5#', 'https://lichess.org/training/BF5na');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bf5zG', 'Rapid', 'Subhaskhjangir', 1751, 'venk13', 1707, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nxe5,Qe7,d4,c5,O-O,cxd4,Qxd4,Be6,Bf4,Rd8,Qc3,Nf6,Bg5,h6,Bxf6,Qxf6,Nf3,Qg6,Qxc7,Bd6,Qxb7,O-O,Nc3,Rb8,Qc6,Bh3,Nh4', 'Bxh2+,Kxh2,Qxc6', 'https://lichess.org/training/Bf5zG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BF8gN', 'Blitz', 'GM xamax2000', 2515, 'IM meduzka', 2403, 'e4,g6,d4,Bg7,c3,d6,Nf3,Nc6,Bd3,e5,h3,a6,O-O,exd4,cxd4,Nxd4,Nxd4,Bxd4,Bb5+,axb5,Qxd4,Qf6,Qd3,Bd7,Nc3,Ne7,e5,dxe5,Ne4,Qc6,Bg5,Bf5,f3,Rd8,Qa3,b4,Qxb4,Qb6+,Qxb6,cxb6', 'Nf6+,Kf8,Bh6#', 'https://lichess.org/training/BF8gN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BF9lM', 'Rapid', 'lingtalfi', 2163, 'MrShooko', 2156, 'e4,c6,d4,d5,e5,c5,Bb5+,Bd7,Nc3,e6,Bxd7+,Nxd7,Be3,Nxe5,dxe5,d4,Qf3,dxe3,Qxb7', 'Qd2+,Kf1,Qxf2#', 'https://lichess.org/training/BF9lM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bf9N9', 'Rapid', 'pericotronic', 1813, 'The1AndOnlyJinja', 1794, 'e4,c5,Nf3,e6,b4,a6,bxc5,Bxc5,d4,Be7,Bb2,Nf6,Nbd2,O-O,c4,d5,e5,Ne4,Nxe4,dxe4,Nd2,Bb4,a3,Ba5,Qc2,b6,Qxe4,Bxd2+,Kxd2,Qc7,Qxa8', 'Bb7,Qxb7,Qxb7', 'https://lichess.org/training/bf9N9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BfBC1', 'Blitz', 'Osamushi', 2184, 'NM reebook', 2168, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,b5,Bb3,Bc5,a4,Rb8,Nxe5,Nxe5,d4,Bxd4,Qxd4,Nc6,Qd3,d6,Bg5,O-O,axb5,axb5,Qc3,Ne5,Nd2,h6,Bh4,Bb7,f4,Ng6,Bxf6,Qxf6,Qxf6,gxf6,c3,Rfe8,Bc2,f5,exf5,Re2,fxg6', 'Rxg2+,Kh1,Rxd2+', 'https://lichess.org/training/BfBC1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bFBFW', 'Blitz', 'Metron', 1890, 'KillerNoobs', 1875, 'e4,e6,d4,c5,c3,b6,e5,Bb7,Nf3,cxd4,cxd4,d6,Be2,dxe5,dxe5,Qxd1+,Bxd1,Bb4+,Bd2,Nc6,Bxb4,Nxb4,Nc3,Bxf3,gxf3,Nd3+,Kd2,Nxb2,Bc2,Nc4+,Ke2,Nxe5,Rhd1,Nf6,Nb5,Ke7,Be4,Rad8,Rdc1,a6,Nc7,a5,Nb5,Rhe8,Bc6,Ned7,Nc7,Rh8,Rab1,Rc8,Bb7,Rb8,Bc6,Nc5,Nb5,Rhc8,Nd4,e5,Nf5+,Kf8,Bb5,Nd5,a4,g6,Nd6,Rd8,Nc4,Nf4+,Kf1,f6,Nxa5,Rd2,Nc6,Rc8,Rd1,Rxd1+,Rxd1,Rc7,Rd8+,Kf7,Nb4,Nfe6,Rd6,Rb7,Kg2,Nd4,Kg3,Nxb5,axb5,Ke7,Rc6,Nd7,Nd5+,Kd8,Re6,f5,Rd6,Ke8,Nf6+,Nxf6,Rxf6,Ke7,Rc6,Kd7,h4,Ke7,f4,e4,Kg2,Kf7,Kf1,Kg7,Ke2,Kh6,Ke3,Kh5,f3,exf3,Kxf3,Kxh4', 'Rc1,g5,Rh1#', 'https://lichess.org/training/bFBFW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bfBTo', 'Rapid', 'Fialha', 1648, 'IrNeu', 1647, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,c4,e6,Qe2,Be7,Bg5,O-O,cxd5,Nxd5,Bxe7,Qxe7,Nc3,Nf6,Qd3,a6,Be2,Nbd7,O-O,b5,Bd1,Bb7,Bc2,h6,Nd2,b4,Nde4,Nxe4,Nxe4,Nf6', 'Nxf6+,Qxf6,Qh7#', 'https://lichess.org/training/bfBTo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bfbVy', 'Blitz', 'BadAttitude098', 1830, 'TstAp', 1813, 'e4,e5,f4,d6,Nf3,Nc6,Bc4,Nf6,d3,Be7,O-O,O-O,a3,a6,Nc3,Bg4,h3,Bd7,fxe5,Nxe5,Nxe5,dxe5,Kh1,c6,d4,b5,Ba2,exd4,Qxd4,c5,Qe3,Qc7,e5,Ne8,Nd5,Qd8,Qe4,Be6,Nxe7+,Qxe7,Qxa8,Bxa2,Rxa2,Qxe5,Qxa6,Qe2,Rg1,Nf6,Bg5,Ne4,Bf4,Qf2,Raa1,Qxf4,Qxb5,Ng3+,Kh2,Ne2+,Kh1', 'Ng3+,Kh2,Nf1+,Kh1,Qh2#', 'https://lichess.org/training/bfbVy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BfClt', 'Blitz', 'Mr512', 1545, 'chasealmond1', 1666, 'd4,d5,Bf4,f6,Nf3,Nc6,e3,Bf5,Bd3,Bxd3,Qxd3,e5,dxe5,fxe5,Nxe5,Bd6,Nxc6,bxc6,Bxd6,Qxd6,O-O,Nf6,Nd2,O-O,h3,Qe5,c3,Rab8,Rab1,c5,Nf3,Qe6,Rfe1,c4,Qd4,c6,Qxa7,Ra8,Qc5,Rxa2,Nd4,Qf7,Qxc6,Ne4,f3,Ng3,Kh2,Nf5,e4,Nxd4,cxd4,Qf4+,Kh1,Qg3,Qxd5+,Kh8,Qxc4,Ra7,d5,h6,Qf1,Raf7,Re3,Rf4,b4,Rh4,b5,Rc8,b6,Rc2,b7', 'Rxh3+,Kg1,Qh2#', 'https://lichess.org/training/BfClt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bfE91', 'Blitz', 'sloesing', 1865, 'CNL_Jacopo', 1893, 'e4,e6,Nf3,d5,exd5,exd5,d4,c6,Nc3,Bd6,Bd3,Ne7,O-O,O-O,Bg5,Re8,Re1,Qc7,Ne5,f6,Bxh7+,Kxh7,Qh5+,Kg8,Qf7+,Kh7,Bxf6,Nf5,Qg6+,Kg8,Qxe8+,Kh7,Qh5+,Nh6,Qg6+,Kg8,Qe8+,Kh7,Ng6,gxf6,Nf8+,Bxf8,Qxf8,Qf4,Re7+,Kg6,Rg7+,Kf5,g4+,Nxg4', 'Qxc8+,Nd7,Qxd7#', 'https://lichess.org/training/bfE91');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bfekT', 'Classical', 'bishoprookie', 1805, 'twinkler', 1757, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,Nc6,Nf3,e5,Bc4,Nf6,Bg5,Be7,Bxf6,Bxf6,O-O,O-O,Qe2,b6,Rfd1,Re8,Rac1,Qe7,Nb5,d6,Nxd6,Rd8,Nxf7,Rxd1+,Rxd1,Be6,Bxe6,Qxe6,Rd6,Qxf7,Rxc6,Qxa2,g3,Rd8,Rc7,Qb1+,Kg2,a5,Rb7,Rd6,Qb5,Re6,Rxb6,Rxb6,Qxb6,Qxe4,Qxa5,g5,h3,h5,Qa2+,Kh8,Qe6,Kg7,g4,hxg4,hxg4,Qf4,Qd7+,Kg6,Qd2', 'Qxg4+,Kf1,Qxf3', 'https://lichess.org/training/bfekT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bFeOc', 'Rapid', 'follett', 2056, 'NM mn8', 2330, 'd4,d5,c4,e6,Nc3,Be7,Nf3,Nf6,Bg5,O-O,e3,h6,Bh4,b6,cxd5,Nxd5,Bxe7,Qxe7,Nxd5,exd5,Bd3,Be6,O-O,c5,b3,Nd7,Qe2,Rfc8,Rac1,Nf6,h3,Ne4,Bxe4,dxe4,Nd2,cxd4,exd4,Bd5,Nc4,Qe6,Ne3,Bb7,Qd2,f5,d5,Qd7,f4,Rd8,Rfd1,g5,g3,Rac8,Rxc8,Bxc8,d6,Qe6,Kh2,Kh7,Qd4,Kg6,Nc4,Bd7,Ne5+,Kh7,Qc3,Rc8,Qd4,Rc5,Rd2,Rc1,Nxd7,Qxd7,Qf6,Rc6,Qe7+,Qxe7,dxe7,Re6,Rd7,Kg6', 'Rd6,Rxd6,e8=Q+', 'https://lichess.org/training/bFeOc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bFfAc', 'Blitz', 'Americojr', 1650, 'AlejandroGutierrez1', 1702, 'e4,c5,Bc4,Nc6,Nc3,e6,d3,Nf6,Bg5,Be7,Nf3,d6,O-O,a6,a3,b5,Ba2,Bb7,d4,cxd4,Nxd4,Qb6,Nxc6,Bxc6,Bxf6,gxf6,Re1,Rg8,Qh5,O-O-O,Qxf7,Qc7,Bxe6+,Kb8,Nd5,Bxd5,Bxd5,Rdf8,Qh5,Rg5,Qf3,h6,Re3,Qxc2,Rc3,Qxb2,Rac1,f5,Rc7,fxe4,Qxe4', 'Qxf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/bFfAc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BFFLO', 'Rapid', 'adamnie', 1660, 'citizenclipp', 1667, 'e4,d6,Nc3,Nf6,Nf3,e5,h3,c5,Bc4,Be7,O-O,O-O,d3,a6,a3,b5,Ba2,Nc6,Bg5,Bd7,Qd2,Nd4,Nxd4,cxd4,Nd5', 'Nxd5,Bxe7,Nxe7', 'https://lichess.org/training/BFFLO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BFh9u', 'Rapid', 'captain_jang', 1872, 'zgoryn', 1910, 'e4,e5,f4,exf4,Nf3,d5,exd5,Qxd5,Nc3,Qd8,Be2,Nc6,O-O,Bg4,Kh1,g5,Qe1,Qe7,h3,Bxf3,Bxf3,O-O-O,Qf2,Qc5,Bg4+,f5,Qxc5,Bxc5,Bxf5+,Kb8,Ne4,Bb6,c3,h5,Nxg5,Rd5,Nf7,Rxf5,Nxh8,Nge7,d4,Rf8,Bxf4,Rxh8,Rae1,Nd5,Be5,Nxe5,Rxe5,c6,Rff5,h4,Rh5,Rf8,Rxh4,a6,Re2,Rf1+,Kh2,Nf4,Rh8+,Ka7,Rd2,Ng6,Rg8,Nh4,Rh8', 'Bc7+,g3,Nf3+,Kg2,Nxd2', 'https://lichess.org/training/BFh9u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bfhos', 'Blitz', 'LM fast-tsunami', 2444, 'jshutzman', 2457, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,Qd2,Nbd7,O-O-O,h6,Be3,Ng4,Bc4,Nde5,Bb3,Nxe3,Qxe3,Qc7,f4,Nc4,Qe2,Na5,Ba4+,Bd7,Bxd7+,Qxd7,f5,O-O-O,Rhf1,Be7,Kb1,Bf6,Rf3,Nc6,Nxc6,Qxc6,fxe6,fxe6,a3,Kb8,Rfd3,Be5,g3,Rhf8,Qg4,Rf6,Qxg7,Rdf8,Qg4,Qc4,h4,Rf2,h5,R8f6,Qg8+,Rf8,Qh7,R2f6,Qd7,Qc7,Qxc7+,Kxc7,R1d2,Rg8,Ka2,Rg5,Nd1,Rxh5,Ne3,Rg5,Nc4,Bxg3,Nxd6,Bxd6,Rxd6,Rg7,e5,Rfg6,R6d4,h5,R2d3,Rh7,Rc3+,Kb6,Rd6+,Ka7,Rh3,h4,Rd4,Rgh6,c4,Kb6,b4,Kc7,Kb3,Rh5,c5,Rxe5,Rdxh4,Rxh4,Rxh4,Kc6,Ka4,Re3,Rd4,Kc7,Rd6', 'b5+,cxb6+,Kxd6,b7,Kc7', 'https://lichess.org/training/bfhos');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bfhyv', 'Blitz', 'barzo', 1558, 'Trentren', 1588, 'e4,e5,Nf3,Nc6,Bc4,Be7,d4,exd4,Nxd4,d6,b3,Nf6,Bb2,Be6,Nxe6,fxe6,Bxe6,Nxe4,Bxg7,Bf6,Bxh8,Bxh8,Qe2,Nxf2,Kxf2,Bxa1', 'Qh5+,Kf8,Qf7#', 'https://lichess.org/training/bfhyv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bfjWp', 'Classical', 'BUJJYOTI', 1901, 'k2700', 2372, 'd4,Nf6,Bf4,c5,c3,cxd4,Qxd4,Nc6,Qd1,e5,Bg3,d5,e3,a6,Be2,Be7,h3,O-O,Nf3,e4,Nd4,Bd6,Bxd6,Qxd6,O-O,Bd7,Qb3,b5,Nd2,Na5,Qd1,Nc4,Nxc4,bxc4,Qd2,Rfb8,Rab1,Bb5,Rfd1,Rd8,b3,cxb3,axb3,Bxe2,Qxe2,Rac8,Rdc1,Rc7,Ra1,Rdc8,c4,Nd7,Rc2,Ne5,Rac1,dxc4,bxc4,Nd3,Ra1,Rxc4,Rxc4,Rxc4,Qa2,Rc8,Qxa6', 'Rc1+,Rxc1,Qxa6', 'https://lichess.org/training/bfjWp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bFLcE', 'Rapid', 'MrMaestro-Rapid', 1751, 'Mohamdy111', 1785, 'e4,e6,d4,d5,e5,Nc6,Nf3,Bb4+,c3,Be7,Bf4,b6,Bb5,Bb7,Qa4,Qd7,O-O,a6,Bxc6,Bxc6,Qc2,Bb5,Re1,Nh6,a4,Bc6,b4,Nf5,Nbd2,O-O,g4,Nh6,h3,f6,exf6,Bxf6,Bg3,Be7,Ne5,Qe8,c4,Nf7,Ndf3,Bxb4,Re2,Bb7,Nxf7,Qxf7,Ne5,Qe7,cxd5,Bxd5,Rc1,c6', 'Nxc6,Bxc6,Qxc6', 'https://lichess.org/training/bFLcE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bfltd', 'Rapid', 'dinosama', 1817, 'Szabi', 1752, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Nge7,Bb5,Nf5,dxc5,Bxc5,O-O,O-O,b4,Bb6,Bd3,Nh4,Ng5,Nxe5', 'Bxh7+,Kh8,Qh5', 'https://lichess.org/training/bfltd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BfLuX', 'Rapid', 'naikus', 1749, 'Pavel0873', 1745, 'd4,d5,c4,e6,Nc3,Bb4,Bd2,Bxc3,Bxc3,Nf6,cxd5,exd5,e3,Ne4,Qc2,Nxc3,Qxc3,Bf5,Qb3,c6,Qxb7,Qa5+,Kd1,Qa4+,b3,Qa3,Qxa8,O-O,Qb7,Qb2,Rc1,Qxf2,Nh3', 'Bg4+,Be2,Qxe2#', 'https://lichess.org/training/BfLuX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BFM7g', 'Blitz', 'spainis1952', 1797, 'Merkfrom', 1735, 'd4,d5,Bg5,h6,Bh4,f6,e3,Nc6,Qh5+,Kd7,c3,e6,Bd3,Be7,Qe2,f5,Bg3,Nf6,Nf3,b6,Nbd2,Bb7,O-O,Qf8,b4,Bd6,a4,Bxg3,hxg3,Ne4,Bxe4,fxe4,Ne5+,Nxe5,dxe5,Qf5,f4,h5,b5,h4,g4,Qh7,Kh2,h3,g3,Qg6,Nb3,Raf8,Nd4,Qf7,f5,Qe7,fxe6+,Kd8,Rf4,Rxf4,gxf4,Rh4,f5,Ke8,a5,bxa5,Rxa5,Qc5,f6,gxf6,exf6,Qd6+,Kh1,h2,Rxa7,Qg3,f7+,Kf8,Ra1,Rxg4,Nf5', 'Qg1+,Rxg1,hxg1=Q#', 'https://lichess.org/training/BFM7g');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BfMOl', 'Rapid', 'HSAcar', 2146, 'KingRichards', 2147, 'e4,c5,Nf3,d6,Nc3,Nf6,d4,cxd4,Nxd4,a6,Bg5,e6,f4,Nbd7,Qf3,Be7,O-O-O,O-O,Bd3,Rb8,g4,b5,Bxf6,Bxf6,Nce2,Qb6,Nb3,a5,g5,Be7,h4,a4,Nd2,Bb7,f5,Ne5,Qg3,Rfc8,Kb1,b4,f6,Bf8,h5,Ba6,Bxa6,Qxa6,Nf4,Rb7,g6,fxg6,hxg6,Nxg6,Nxg6,b3,cxb3,axb3,Nxf8', 'Qxa2#', 'https://lichess.org/training/BfMOl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bFo7l', 'Classical', 'Zanouch_Master', 1606, 'SeeMoney99', 1612, 'd4,d5,Bf4,Nf6,e3,Nc6,c3,g6,Nd2,Bg7,Qc2,O-O,Ngf3,Bf5,Bd3,Bxd3,Qxd3,e6,h3,Ne7,g4,c6,g5,Nh5,Be5,Bxe5,Nxe5,Nf5,Ng4,a5,Nh6+,Nxh6,gxh6,Qg5,Nf3', 'Qg2,Rh2,Qxf3', 'https://lichess.org/training/bFo7l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bfp2t', 'Classical', 'dunker62', 2212, 'Amole', 2238, 'd4,e6,c4,b6,Nc3,Bb7,e4,Bb4,Qc2,c5,d5,e5,Bd3,d6,a3,Bxc3+,Qxc3,Nd7,f4,Ngf6,Nf3,Qe7,O-O,O-O,fxe5,Nxe5,Nxe5,Qxe5,Qxe5,dxe5,b4,Nd7,Be3,Rac8,g4,f6,g5,fxg5,Bxg5,Rxf1+,Rxf1,Rf8,Rxf8+,Kxf8,Kf2,h6,Be3,Ke7,Kf3,Kd6,Kg4,Bc8,Kh5,Nf8,b5,Bd7,a4,Ke7,Bf2,Be8+,Kh4,Kf6,Kg4,g5,h4,h5+,Kg3,gxh4+,Kxh4,Ng6+,Kg3,h4+,Kh2,Bd7,Be1,Kg5,Bd2+,Nf4,Bf1,Kg4,a5,Kf3,axb6,axb6,Ba5,bxa5', 'b6,Bc8,d6', 'https://lichess.org/training/bfp2t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bfpuZ', 'Rapid', 'ahmedlion', 1606, 'procafeinateur', 1612, 'd4,d5,Bf4,c5,Nf3,Bf5,Nc3,e6,Ne5,Nf6,e3,Be7,Bb5+,Nbd7,Nxd7,Nxd7,Be5,O-O,O-O,Nxe5,dxe5,c4,Qh5,a6,Ba4,b5,Bxb5,axb5,Nxb5,Bxc2,Nd4,Bg6,Qf3,f6,exf6,Bxf6,Qd1,Qb6,f4,Rfe8,Rf2,e5,fxe5,Bxe5,Nf3,Bxb2,Qxd5+,Kh8,Re1,c3,Ng5,Rxe3,Ref1,c2', 'Rf8+,Rxf8,Rxf8#', 'https://lichess.org/training/bfpuZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BFpyH', 'Classical', 'ponraed1', 1806, 'Chessedition', 2018, 'e4,Nf6,e5,Nd5,Bc4,e6,Nf3,Nb6,Bb3,d5,d3,c5,c3,Be7,O-O,Nc6,Re1,O-O,d4,f5,Nbd2,cxd4,cxd4,g5,h3,Bd7,Nf1,Be8,Ng3,Rf7,Bc2,Rg7,a3,h5,Nh2,Rc8,Nxh5,Bxh5,Qxh5,Nxd4,Bd1,Nc2,Bxc2,Rxc2,Nf3,Rc4,b3,Re4,Bb2,g4,Nd4,gxh3,Qxh3,Rh4,Qf3,Rgh7,g3,Rh1+,Qxh1,Rxh1+,Kxh1,Kf7,Kg2,Nd7,f4,Nc5,Rh1,Qg8,Rh6,Ne4,Nxf5,exf5', 'e6+,Kf8,Rh8,Qxh8,Bxh8', 'https://lichess.org/training/BFpyH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BFQf8', 'Blitz', 'Jaquy', 1596, 'AndreiBo', 1570, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,d6,d4,exd4,cxd4,Bb6,Na3,Bg4,Be2,Nf6,Nc4,Nxe4,Nxb6,axb6,Be3,O-O,Qc2,Nf6,Bd3,Re8,O-O-O,Be6,a3,Ne7,Ng5,c5,dxc5,bxc5,Kb1,Ned5,Bd2,h6,Nxe6,Rxe6,Bc4,Re2,Qd3,Rxf2,Bxd5,Nxd5,Qxd5,Qf6,Bc3,Qg6+,Ka1,Rxg2,Qxd6,Qc2,Qe5', 'Rxa3+,bxa3,Qa2#', 'https://lichess.org/training/BFQf8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bFqSg', 'Rapid', 'Sitasi', 2135, 'Mikorilla', 2067, 'e4,Nf6,Nc3,d5,exd5,Nxd5,Qf3,Nxc3,dxc3,e6,Bd2,Be7,O-O-O,Nc6,Bb5,Bd7,Nh3,O-O,Qg3,Bd6,Bf4,e5,Bh6,Qf6,Bg5,Qe6,Kb1,a6,Ba4,b5,Bb3,Qg6,Rhe1,a5,f4,exf4,Nxf4,Bxf4,Bxf4,Bf5,Qxg6,hxg6,Bxc7,Rac8,Bd6,Rfe8,h3,a4,Bd5,Na5,Rxe8+,Rxe8,Bb4,Nc4,Bc6,Re2,Rc1,Ne3,Bf3,Rd2,c4,Nxc2', 'Bxd2,Ne1+,Ka1', 'https://lichess.org/training/bFqSg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BfqxR', 'Classical', 'stock_trader', 1936, 'juliodomingo', 2066, 'd4,Nf6,c4,c5,d5,b5,b3,Qa5+,Bd2,b4,Nf3,d6,Bc1,g6,Bb2,Bg7,Nbd2,O-O,e4,Nbd7,Bd3,Qc7,O-O,a5,Qe2,a4,Bc2,a3,Bc1,Nxd5,exd5,Bxa1,Bxa3,Bf6,Bc1,Rxa2,Ne4,Bg7,Neg5,Ne5,Nxe5,Bxe5,Ne4,Bf5,h4,h5,Bh6,Bg7,Bxg7,Kxg7,f4,Rfa8,Rf3,Bg4,f5,Bxf3,Qxf3,Rxc2,fxg6,fxg6', 'Ng5,e5,Ne6+,Kg8,Nxc7,Ra1+,Kh2', 'https://lichess.org/training/BfqxR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BfRe2', 'Classical', 'koraj', 2086, 'iqfranta', 1697, 'e4,e5,Nf3,Bc5,Nxe5,Bxf2+,Kxf2,Qh4+,Kg1,Qxe4,Qe2,Nf6,Nc3,Qd4+,Qe3,Qxe3+,dxe3,O-O,Bc4,d5,Nxd5,Nxd5,Bxd5,c6,Bb3,Be6,Kf2,Na6,Bd2,Nc5,Bb4,Ne4+,Kf3,Ng5+,Kf4,Rfe8,Nd3,Ne4,Bxe6,Rxe6,Rad1,Rae8,Nc5', 'Rf6+,Kg4,Nf2+', 'https://lichess.org/training/BfRe2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bFrrJ', 'Rapid', 'viswanathsandilya', 1774, 'Ninada_123', 1764, 'e4,b6,d4,Bb7,Bd3,e6,Nf3,d5,e5,f6,O-O,f5,c3,h6,h4,Be7,h5,Kd7,Qc2,Qe8,Bxf5,exf5,Qxf5+,Kd8,Nbd2,Bc8,e6,Qc6,Re1,Nf6,Ne5,Qe8,Nf7+,Qxf7,exf7,Bxf5,Nf3,Rf8,Ne5,Nbd7', 'Nc6+,Kc8,Nxe7+,Kb7,Nxf5', 'https://lichess.org/training/bFrrJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bFss8', 'Rapid', 'aku_newbie', 1783, 'huamani', 1879, 'd4,c5,e4,e6,Nf3,a6,Nc3,b5,dxc5,Bxc5,Bd3,Bb7,Be3,Bxe3,fxe3,Nh6,h3,O-O,Ne5,Qh4+,Kd2,Qg5,Nf3,Qxg2+,Kc1,Qg3,Rg1,Qc7,Nh4,Qe5,Ne2,Nc6,a3,Ne7,Nf4,Rac8,Kb1,Rcd8,Qf3,f5,Qg3,fxe4,Be2,Nef5,Nxf5,exf5,c4,Kh8', 'Ng6+,hxg6,Qxe5', 'https://lichess.org/training/bFss8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bFTeY', 'Rapid', 'Harun_Kristal', 2049, 'onepunchchess', 1968, 'e4,e5,f4,exf4,Nf3,g5,Bc4,Bg7,O-O,g4,d3,gxf3,Qxf3,Nc6,Bxf4,Nd4,Qh5,Qe7,Nc3,Nf6,Qg5,Rg8,Bxc7,d5,exd5,Qxc7,Rxf6,Nxc2,Raf1,Qb6+,Rxb6', 'Bd4+,Kh1,Rxg5', 'https://lichess.org/training/bFTeY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bFTTT', 'Rapid', 'Mercuryjon', 1918, 'Teteu12', 1929, 'e4,c5,Nf3,Nc6,Bb5,e6,O-O,Nf6,Re1,Be7,c3,a6,Bf1,d5,e5,Nd7,d4,O-O,Bd3,f6,Qc2,f5,Nbd2,c4,Be2,b5,Nf1,b4,Ng3,a5,a3,b3,Qd2,h6,Nh5,g5,h4,f4,hxg5,hxg5,Nh2,Rf7,Bg4,Nf8,Bh3,Rh7,Nf6+,Bxf6,exf6,Qxf6,Ng4,Qg6,Ne5,Nxe5,Rxe5,g4,Qxf4,gxh3', 'Rg5,Qxg5,Qxg5+', 'https://lichess.org/training/bFTTT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bFV8d', 'Rapid', 'kyky2', 1622, 'foxcovert', 1801, 'Nf3,d5,e3,Nf6,Be2,Nc6,O-O,e5,d3,Bd6,e4,d4,c3,h5,cxd4,exd4,Qb3,Ng4,g3,Nge5,Bg5', 'Nxf3+,Bxf3,Qxg5', 'https://lichess.org/training/bFV8d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bFVi5', 'Rapid', 'praseenmr100', 1784, 'gmquen', 1811, 'e4,c5,Bc4,Nc6,d3,e6,Nf3,d6,Bf4,Nf6,Nc3,Be7,Qd2,O-O,h3,h6,O-O,a6,a3,b5,Ba2,Nd4,Nxd4,cxd4,Ne2,e5,Bh2,Bd7,c3,dxc3,Nxc3,Qa5,Rad1,Rac8,Nd5,Qxd2', 'Nxe7+,Kh7,Rxd2', 'https://lichess.org/training/bFVi5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BFw8S', 'Blitz', 'magila', 2392, 'CM Mistheoretical', 2428, 'd4,c5,dxc5,e6,Nc3,Bxc5,Ne4,d5,Nxc5,Qa5+,c3,Qxc5,e4,dxe4,Qg4,Qe5,Bf4,Qf6,O-O-O,Nc6,Bb5,Nh6,Bxh6,Qxh6+,Kb1,Bd7,Qxe4,Qg6,Qxg6,hxg6,h3,O-O-O,Nf3,f6,Rhe1,e5,Nd2,Bf5+,Kc1,Kc7,Nc4,a6,Bxc6,Kxc6,a4,Be6,Ne3,Bb3,Rxd8,Rxd8,a5,Kb5,g4,Kxa5,g5,Be6,gxf6,gxf6,Ng4,Bxg4,hxg4,Re8,Rh1,Re6,Rh7,b6,Rg7,g5,Kc2,Kb5,Kd3,e4+,Ke3,a5,Rd7,Kc4,Rd2,Kb3,Re2,b5,Kd4,a4,Kd5,Re5+,Kd6,a3,bxa3,Kxa3,Re3,Kb3,Kc6,Kc4,Kd6,b4,cxb4,Kxb4,Rh3,Kc4,Rh6,Kd3,Rxf6,Re8,Re6', 'Rxe6+,Kxe6,Ke2', 'https://lichess.org/training/BFw8S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BFwS4', 'Rapid', 'sb_dz', 1618, 'Krt-M7ro8', 1620, 'e4,e5,Nf3,Nc6,d3,Bc5,Nc3,Nge7,Be2,d5,exd5,Nxd5,Bd2,f5,O-O,O-O,Bg5,Nxc3,bxc3,Be7,Qd2,h6,Bxe7,Qxe7,d4,e4,Ne1,f4,Bc4+,Be6,Bb3,Bxb3,cxb3,e3,fxe3,fxe3,Qd3,Rxf1+,Kxf1,Rf8+,Nf3,g5,Re1,Re8,Kg1,g4,Ne5,Nxe5,dxe5,Qxe5,Qc4+,Kh7,Qxg4,Qxc3', 'Qd7+,Qg7,Qxe8', 'https://lichess.org/training/BFwS4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bfWs9', 'Rapid', 'gn0s1s', 1939, 'viparmar', 2006, 'd4,Nf6,Bf4,e6,e3,d5,Nf3,c5,c3,Nc6,Bd3,Bd6,Ne5,Qc7,Qa4,O-O,Nxc6,bxc6,O-O,cxd4,Qxd4', 'e5,Bxe5,Bxe5', 'https://lichess.org/training/bfWs9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bFX3c', 'Classical', 'Sevenfifty', 1855, 'Konyuhh', 1892, 'd4,d5,Bf4,e6,e3,Nf6,Nd2,Bd6,Bg3,O-O,Bd3,Nbd7,Ngf3,Bxg3,hxg3,c5,c3,c4,Bc2,Re8,Ne5,g6,g4,Nxe5,dxe5,Nd7,Qf3,Nxe5,Qh3,Qf6,Qxh7+,Kf8,O-O-O,Nxg4,Rdf1,Bd7,Rh4,Ne5,f4,Nd3+,Bxd3,cxd3,Nf3,Bb5,Rfh1,Ke7,Qh6,Rac8,Nd4,Ba6,Nf3,Rh8,Qg5,Rxh4,Qxf6+,Kxf6,Rxh4,Kg7,Kd2,Rc4,Ne5,Ra4,a3,g5,Rg4,f6,Nxd3,Bxd3,Kxd3,Kg6', 'f5+,Kxf5,Rxa4', 'https://lichess.org/training/bFX3c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BfXLj', 'Rapid', 'belmonde', 1699, 'ahmadmogammad11', 1714, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Nc3,Be7,O-O,a6,Nd5,Nxd5,Bxd5,Nd4,Nxe5,O-O,c3,Ne6,Qb3,c6,Bxe6,fxe6,d4,d5,exd5,exd5,Be3,Bd6,Nf3,Bg4,Nd2,Qd7,c4,Rae8,cxd5,cxd5,Qxd5+,Kh8,Ne4', 'Bxh2+,Kxh2,Qxd5', 'https://lichess.org/training/BfXLj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BfYdv', 'Rapid', 'Hugh-Chess', 2175, 'boi4o21', 2213, 'e4,e6,d3,d5,Nd2,c5,Ngf3,Nc6,g3,Nf6,Bg2,Be7,O-O,O-O,Re1,Qc7,e5,Nd7,Qe2,Re8,Nf1,h6,h4,Bf8,Bf4,d4,N1h2,Nb6,Nd2,Bd7,Ng4,Rad8,a4,Nd5,Bxd5,exd5,e6,Bd6,Bxd6,Qxd6,exf7+,Kxf7,Qf3+,Kg8,Nf1,Rf8,Qd1,Qg6,Nfh2,Rf5,Nf1,Rdf8,f4,Rxf4,gxf4,Bxg4,Qd2,Bf3+,Kh2,Rxf4,Qf2,Rxh4+,Qxh4', 'Qg2#', 'https://lichess.org/training/BfYdv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bfYhc', 'Classical', 'jas37', 1751, 'TPow', 1738, 'g3,e5,Bg2,d5,d3,Nf6,Nf3,e4,dxe4,Nxe4,O-O,Nc6,Ne1,Bf5,c3,Bc5,e3,O-O,Nc2,Ne5,b4,Be7,Nd4,Qd7,Nxf5,Qxf5,Qxd5', 'Nf3+,Bxf3,Qxd5', 'https://lichess.org/training/bfYhc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BFyTc', 'Blitz', 'The_Skinny_Panda', 2526, 'IM Mesa1', 2404, 'd4,Nf6,c4,c5,Nc3,cxd4,Qxd4,Nc6,Qd1,e6,Nf3,Bb4,Bf4,d5,a3,Bxc3+,bxc3,Qa5,cxd5,Nxd5,Bd2,Qc5,Qc2,e5,e3,O-O,Be2,f5,O-O,e4,Nd4,Nxd4,exd4,Qd6,c4,Nf4,Rae1,Nxe2+,Rxe2,Qxd4,Bb4,Rd8,Rd2,Qf6,f3,exf3,Rxd8+,Qxd8,Re1,fxg2,Qxg2,Qb6+,Kh1,Bd7', 'Qd5+,Kh8,Qxd7', 'https://lichess.org/training/BFyTc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bfzie', 'Classical', 'aryan425', 1957, 'RyszardR', 1908, 'd4,Nf6,Bf4,g6,e3,Bg7,Nf3,d6,Bc4,O-O,c3,c6,Nbd2,d5,Bd3,Nbd7,h4,h6,O-O,Re8,Kh1,Nh5,Bh2,e5,g4,e4,gxh5,exf3,hxg6,fxg6,Bxg6,Rf8,Nxf3,Nf6,Ne5,Nd7,Rg1,Nxe5,Bxe5', 'Qxh4+,Bh2,Rxf2', 'https://lichess.org/training/Bfzie');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BG3SE', 'Blitz', 'chess_for_fun1', 2078, 'Josi7', 2006, 'e4,c5,Nf3,Nc6,Bb5,e6,c3,Nge7,d4,cxd4,cxd4,d5,e5,a6,Ba4,b5,Bc2,Bb7,Nc3,g6,Bg5,Bg7,Qd2,O-O,h4,h5,Bf6,Qc7,O-O-O,Rac8,Kb1,Kh7,Ng5+,Kg8,g4,b4,Ne2,Bh6,gxh5,gxh5,Rhg1,Ng6,Nf4,Nxd4,Bxg6,fxg6,Nxg6,Rxf6,exf6,Bxg5,Rxg5,Kf7,Qxd4', 'Qc2+,Ka1,Qc1+,Rxc1,Rxc1#', 'https://lichess.org/training/BG3SE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bg3W7', 'Blitz', 'rjs_314', 1513, 'darnie4', 1527, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e5,Nf5,Bxf5,exf5,Be7,Bc4,O-O,a4,Nc6,O-O,Nd4,Re1,Nxf5,Qd3,Nd4,Nd5,h6,Bxf6,Bxf6,b4,Rc8,Re4,b5,axb5,axb5,Bxb5,Rxc2,Ba4,Rb2,b5,Bg5,Rg4,Qa5,Rxg5,hxg5', 'Ne7+,Kh8,Qh3#', 'https://lichess.org/training/Bg3W7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bG44c', 'Rapid', 'Schapschalulu', 1700, 'Sabizi', 1632, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,Nc3,d6,O-O,Bg4,Bg5,h6,Bh4,g5,Bg3,Nh5,h3,Bd7,Bh2,Qf6,Nd5,Qg7,Nxc7+,Kd8,Nxa8,Ke7,Nc7,g4,Nd5+,Ke8,hxg4,Bxg4,Kh1,Nf4,Nc7+,Kd8,Nb5,Bh3,Rg1', 'Bxg2+,Rxg2,Qxg2#', 'https://lichess.org/training/bG44c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BG4hY', 'Rapid', 'FrugalDutchman', 2106, 'xuxuroman', 2147, 'd4,e6,Bf4,f5,Nf3,b6,c3,Bb7,Nbd2,Nf6,h3,Be7,e3,O-O,Bd3,h6,Qc2,d5,Ne5,Kh7,g4,Ne4,f3,Bh4+,Ke2,g5,Bh2,Nxd2,Qxd2,Kg7,gxf5,exf5,Qc2,Qf6,Ng4,Qe6,Be5+,Kg8,Nf2,Nd7,f4,Nxe5,fxe5,f4,Ng4,f3+,Kd2,h5,Nf6+,Rxf6,exf6,Qxf6,Bg6,g4,hxg4,hxg4,Qf5,Kg7,Qxf6+,Bxf6,Bh5,f2,Bxg4,Re8,Ke2,Bg5,Rh3,Rf8,Rf1', 'Ba6+,Kd2,Bxf1', 'https://lichess.org/training/BG4hY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bg5sk', 'Blitz', 'meinerseel', 1869, 'zeljkobjeletic', 1924, 'c4,e5,Nc3,c6,Nf3,Qf6,d4,exd4,Bg5,Qg6,Qxd4,Nf6,Bxf6,Qxf6,Qxf6,gxf6,e4,Bb4,Rc1,d5,exd5,cxd5,cxd5,Bg4,Be2,Nd7,O-O,Bxf3,Bxf3,Ne5,Rfe1,O-O,Be4,Rac8,a3,Bxc3,bxc3,b5,Bf5,Rc5,f4,Nc4,Red1,Ne3,Bxh7+,Kxh7,Rd3,Nc4,Rcd1,Nb2,Rh3+,Kg6,Rd2,Nc4,Rdd3,f5,d6,Rd8', 'Rdg3+,Kf6,Rh6#', 'https://lichess.org/training/Bg5sk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bg6Rq', 'Classical', 'Walidgamal', 1652, 'Mokudo', 1621, 'e4,c6,d4,d5,e5,Bf5,Nf3,h6,Nc3,e6,g3,Nd7,Nh4,Bh7,Bd3,Bxd3,Qxd3,Be7,Bf4,Bxh4,gxh4,Qxh4,Bg3,Qh5,Rg1,Ne7,Ne2,Nf5,O-O-O,Nxg3,Nxg3,Qxh2,Qf3,Qh4,Nh5,O-O-O,Rxg7,Rdf8,Rxf7,Rxf7,Qxf7,Qg5+,Kb1', 'Rf8,Qxe6,Qxh5', 'https://lichess.org/training/Bg6Rq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bg6VA', 'Blitz', 'Efra3', 1585, 'AndrejDudok', 1623, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,h6,c3,d6,d4,exd4,cxd4,Bb4,a3,Ba5,b4,Bb6,Nc3,Bg4,Be3,a6,Re1,Nf6,d5,Ne5,Be2,Nxf3+,Bxf3,Bxf3,Qxf3,O-O,Qg3,Kh7,Bxb6,cxb6,Ne2,Nxe4,Qd3,Re8,Nf4,f5,Ne6,Qh4,Qf3,Ng5,Qxf5+,Kh8,Nxg5,hxg5,Rac1,Rf8,Qc2,Rf6,Qc3,Qxf2+,Kh1,Raf8,Qc4,Qd2,Rg1,Rh6,Qe4,Rf2', 'Rc8+,Rf8,Rxf8#', 'https://lichess.org/training/Bg6VA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BG7g6', 'Rapid', 'khaled1982', 1976, 'filixius', 2107, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,f4,dxe5,fxe5,Nc6,Nc3,Qxd4,Qxd4,Nxd4,Bd3,c6,Nge2,Nxe2,Nxe2,Be6,b3,O-O-O,Bc2,g6,O-O,Bg7,Bf4,Nd7,Nd4,Nxe5,Nxe6,fxe6,Bxe5,Bxe5,Rae1,Bd4+,Kh1,e5,Rf7,Kd7,g3,Ke6,Ref1,h5,Be4,g5,R7f5,Rdg8,Rf7,h4,g4,Be3,h3,Bf4,R7xf4,exf4,Bf5+,Kf6,Re1,Rd8,Re6+,Kf7,Rg6,Rhg8,Rh6,Rg7', 'Be6+,Kf8,Rh8+,Rg8,Rxg8#', 'https://lichess.org/training/BG7g6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bg9TA', 'Rapid', 'MirekVeverka', 1682, 'gerritriana', 1622, 'e4,e5,d4,exd4,Nf3,Bc5,Bd3,Nc6,c3,dxc3,Nxc3,d6,O-O,Nge7,Bd2,O-O,a3,Ng6,Bc2,Re8,Bf4,Nxf4,Qd2,Ng6,Nd5,Nce5,Nxe5,Nxe5,b3,c6,Nc3,b5,Kh1,Ba6,f4,b4,axb4,Bxf1,fxe5,Bxb4,Rxf1,Rxe5,Qf4,f6,Ne2,Qe7,Nd4,Rc8,Rf3,c5,Nf5,Qd7,Rg3,g5,Rxg5+,fxg5,Qxg5+,Kh8', 'Qf6+,Kg8,Nh6#', 'https://lichess.org/training/bg9TA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BGbae', 'Blitz', 'AzureDragon86', 2236, 'forgottenprophecy', 2209, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,O-O,Be2,Qe8,O-O,e5,d5,a5,Be3,Na6,Nd2,Nc5,b3,c6,a3,cxd5,cxd5,Bd7,b4,Na4,Nxa4,Bxa4,Qb1,Nh5,Nc4,axb4,Nb6,Nf4,Bxf4,exf4,Nxa8,Bxa1,Qxb4,Be5,Nb6,Bd7,Rc1,Qd8,a4,Be8,a5,Qh4,f3,f5,exf5,gxf5,Nc4,Bd4+,Kh1,Bc5,Qxb7,Rf6,Qe7', 'Qxh2+,Kxh2,Rh6+,Qh4,Rxh4#', 'https://lichess.org/training/BGbae');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BGcO4', 'Blitz', 'to---raj', 1621, 'AronCunha', 1524, 'e4,e5,Nf3,d6,a3,Nf6,Nc3,c6,d4,exd4,Nxd4,Be7,Be3,c5,Nf5,Bxf5,exf5,Qd7,Qd2,Qxf5,O-O-O,O-O,Be2,d5,g4,Qd7,h3,d4,g5,Ne4,Nxe4,dxe3,Qxd7,Nxd7,Rxd7,Rae8,fxe3,c4,Kb1,c3,Nxc3,Bc5,g6,fxg6,Bc4+,Kh8,Nd5,Bxe3,h4,Re4,Bd3,Re5,Ne7,Bc5,Nxg6+,hxg6,Bxg6,Rf6,h5,Re2,h6,Rxg6', 'hxg7+,Kg8,Rh8#', 'https://lichess.org/training/BGcO4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bgcs1', 'Rapid', 'vfury', 1734, 'Nox_Eternis', 1694, 'e4,c5,Nf3,Nc6,c3,d5,exd5,Qxd5,d4,Bg4,c4,Qh5,dxc5,e6,Be3,Rd8,Nbd2,Nf6,h3,Bxf3,Qxf3,Qxf3,Nxf3,Nb4,Ke2,Nc2,Rc1,Nxe3,fxe3,Bxc5,g3,Ne4,Rg1,h5,g4,h4,Bg2,Bb4,Rcd1,Ng3+,Kf2,Ke7,Rd4,Bc5,Rf4,f6,g5,fxg5,Nxg5,Rd2+,Kf3,Rf8', 'Rxf8,Kxf8,Nxe6+,Ke7,Nxc5', 'https://lichess.org/training/Bgcs1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BgGqe', 'Classical', 'ILG71', 2095, 'Peristeria', 2349, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Bd3,Bg4,O-O,Nc6,Re1+,Nge7,c3,Qd7,Nbd2,f6,b4,O-O,Qc2,Bf5,Bxf5,Qxf5,Qxf5,Nxf5,Nf1,Rfe8,Bd2,Kf7,Ng3,Nxg3,hxg3,g5,Kf1,Rxe1+,Rxe1,Re8,Rxe8,Kxe8,Ke2,a6,a4,b5,a5,Kf7,Ne1,Kg6,Nd3,h5,f4,g4,Kf2,Ne7,Be1,Kf5,Ke3,c6,Bd2,Nc8,Be1,Be7,Bf2,Nd6,Nb2,Bf8,Be1,Bh6,Nd3,Nc4+,Ke2,Bf8,Nf2,Bd6,Bd2,h4,gxh4,Nxd2,Kxd2,Kxf4,h5,Bf8,Nd3+,Kg5,Ke3,Kxh5,Nf4+,Kh6,Ne6,Bd6,Nd8,Kg5', 'Nf7+,Kh4,Nxd6', 'https://lichess.org/training/BgGqe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bGkKY', 'Rapid', 'Fridolin007', 1729, 'Joycee94', 1698, 'd4,d5,Bf4,Nf6,e3,Bf5,c4,Nc6,Nc3,e6,c5,b6,Qa4,Qd7,Bb5,Bc2,Qxc2,a6,Qa4,axb5,Qxa8+,Nd8,c6,Qxc6,Qxc6+,Nxc6,Bxc7,Bb4,a3,Bxc3+,bxc3,O-O,Bxb6,Rc8,f3,Nd7,Bc5,Nxc5,dxc5,Ne5,Ne2,Rxc5,O-O,h5,Rfd1,g5,Rab1,Nc4,Nd4,Nxa3,Ra1,Rxc3,Kf2,Nc4,Nxb5,Rc2+,Kg3,Nxe3,Rg1,e5,h4,Nf5+,Kh3,Rc4,g4,Nxh4,gxh5,Nxf3,Ra8+,Kg7,Rf1,Rh4+,Kg3,Nd2,Rf5,Ne4+,Kg2,Rg4+,Kh3,Rh4+,Kg2,Rg4+,Kf1', 'Ng3+,Kf2,Nxf5', 'https://lichess.org/training/bGkKY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bGlB5', 'Rapid', 'Kerdo', 1908, 'Sergnik', 1892, 'd4,d5,Bf4,f6,c3,e5,dxe5,fxe5,Bxe5,Nf6,e3,Bd6,Nf3,O-O,Bg3,Bg4,Be2,Ne4,Bxd6,Nxd6,Qxd5+,Kh8,O-O,c6,Qg5', 'Qxg5,Nxg5,Bxe2', 'https://lichess.org/training/bGlB5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BgLWm', 'Rapid', 'Marshall7593', 1914, 'mihaipaulstd', 1915, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,d6,Bg5,a6,Bxf6,gxf6,Na3,b5,Nd5,Bh6,c4', 'Qa5+,Nc3,b4', 'https://lichess.org/training/BgLWm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BGnGQ', 'Classical', 'kputra2771', 1656, 'stefansuvi', 1704, 'd4,d5,e3,Bf5,c4,e6,c5,b6,Qa4+,Qd7,c6,Qxc6', 'Bb5,Qxb5,Qxb5+', 'https://lichess.org/training/BGnGQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BgouZ', 'Rapid', 'AntonSergeevich', 1704, 'ulissesrodrig', 1786, 'e4,c6,d4,d5,Nd2,dxe4,Nxe4,Bf5,Ng3,Bg6,Nf3,Nd7,Bc4,e6,Qe2,Ngf6,O-O,Be7,c3,O-O,Re1,Re8,Bg5,Nd5,Bxe7,Rxe7,h4,h6,h5,Bh7,Rad1,N7f6,Ne5,Qc7,Qf3,Rae8,b4,b6,a4,b5,Bxd5,cxd5,axb5,Qb6,Nd3,Qxb5,Nc5,Qc4,Ne2,Ne4,Ra1,Nd2,Qe3,Nb3,Nxb3,Qxb3,Nc1,Qc4,Rd1,Rc8,Ne2,Bc2,Rdc1,Bd3,Nf4,Bf5,Ra5,Rec7,Rc5,Rxc5,bxc5,Rb8,Ra1,Rb7,Kh2,a6,Qd2,Rb3,Ne2,Bd3,Nc1,Rxc3,Nxd3,Rxd3,Qa5,Qxd4,Qd8+,Kh7,c6,Rc3,Rxa6,Qe5+,g3,Qxh5+,Kg2,Qe5,Qd7,Rc2,Qxf7,Qe4+,Qf3,Qc4,c7,Qxc7,Rxe6,Qc8,Qxd5,Rc5', 'Qe4+,Kg8,Re8+,Qxe8,Qxe8+', 'https://lichess.org/training/BgouZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BGpTg', 'Rapid', 'jara4444', 1741, 'ikovacs', 1700, 'b4,e5,a3,d6,Bb2,Nf6,e3,Nc6,c4,g6,Nc3,Bg7,g3,Bg4,Be2,Bxe2,Ngxe2,O-O,O-O,Ne7,d4,exd4,Nxd4,c5,Nde2,cxb4,axb4,a6,Nf4,Nc6,b5,Ne5,bxa6,bxa6,Qa4,a5,Ncd5,Nxd5,cxd5,Nf3+,Kg2,Bxb2,Rab1,Nd2,Rxb2,Nxf1,Kxf1,Qc7,Rc2,Qb6,Kg2,Qb4,Qd7,Qe4+,Kh3,Qxc2,Qxd6,Qxf2,Qc5,Qf1+,Kg4,h5+,Kg5,Qf3,Kf6,g5,d6,gxf4', 'Qg5+,Kh7,Qg7#', 'https://lichess.org/training/BGpTg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BGs18', 'Rapid', 'yevgenii_sh', 1707, 'laci43', 1624, 'e4,e5,Nf3,Bd6,c3,Nf6,Qe2,a6,d4,Qe7,Bg5,h6,Bxf6,Qxf6,Nbd2,O-O,Nc4,exd4,cxd4,Bb4+,Ncd2,Bxd2+,Qxd2,d6,Bd3,Nc6,d5,Ne5,Nxe5,Qxe5,O-O,Qh5,Rfe1,Qe5,Re3,Bd7,Rg3,Kh8,Rc1,c6,dxc6,Bxc6,Qe3,Qxb2,Bc4,Qe5,f3,Rae8,Bxa6,d5,Bd3,Ra8,Rc5,Rxa2,f4,Qb2,exd5,Bxd5', 'Rxd5,Ra1+,Bf1', 'https://lichess.org/training/BGs18');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BgsFy', 'Classical', 'Savva_Gor13', 1917, 'Avyanshah', 1962, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,Nf6,Bg5,h6,Bh4,g5,Bg3,d6,Nc3,Be6,Bb5,Bd7,Nd5,Nxd5,exd5,Ne7,Bxd7+,Qxd7,c4,f5,h3,f4,Bh2,O-O-O,g3,fxg3,Bxg3,Nf5,Qe2,Bb4+,Kf1,Rdf8,a3,Bc5,b4,Bd4,Nxd4,Nxd4,Qd1,Nf5,Qd2,Nxg3+,Kg2,Nxh1,Rxh1,Rf4,Qe3,Rhf8,Rf1,Qf5,Qxa7,Qxd3,Qa4,Qf3+,Kg1,Rg4+,hxg4,Qxg4+,Kh2,Rf3', 'Qe8#', 'https://lichess.org/training/BgsFy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BgSxd', 'Rapid', 'mohan_salem', 1731, 'Richarh', 1847, 'e4,d5,exd5,Nf6,Bc4,Nxd5,Bxd5,Qxd5,Qf3,Qe5+,Ne2,e6,d4,Qa5+,Nbc3,Nc6,O-O,b6,Qxc6+,Bd7,Qxa8+,Ke7,Qf3,h5,Bg5+,f6,Be3,g5,g4,hxg4,Qxg4,e5,dxe5,Bxg4,exf6+,Kxf6,Bd4+,Kg6,Bxh8,Bd6,Rad1,Bf3,Rd3,g4,Ng3,Bxg3,hxg3', 'Qh5,Rxf3,gxf3', 'https://lichess.org/training/BgSxd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bgSyh', 'Rapid', 'Akeem', 1814, 'Toppest', 1672, 'd4,Nf6,c4,d6,Nf3,Bf5,Nc3,Nbd7,Bg5,h6,Bh4,g6,e3,Bg7,Bd3,Bxd3,Qxd3,O-O,O-O,e5,d5,Nc5,Qc2,a5,e4,Qd7,Rad1,Nh5,Nb5,f5,exf5,Rxf5,Nd2,Raf8,Ne4', 'Nxe4,Qxe4,Rf4,Qxg6,Rxh4', 'https://lichess.org/training/bgSyh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bGTHJ', 'Blitz', 'genitri_99', 1956, 'Capayuli', 1986, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Bd7,Be2,a6,O-O,Nc6,Bg5,Be7,Bxf6,Bxf6,Nxc6,Bxc6,f3,O-O,h3,Re8,Bd3,h6,Rb1,Be5,Qe2,Qh4,f4,Bxf4,Qf3,g5,Rbe1,Re7,Bc4,Kg7,Nd5,Bxd5,Bxd5,c6,Bc4,Rae8,Qc3+,Kg8,Rf3,Be5,Qb3,Qxe1+,Rf1,Qxe4,Bxf7+,Kg7,Bxe8,Bd4+,Kh1,Qe2,Rf7+,Kh8', 'Rf8+,Kg7,Qg8#', 'https://lichess.org/training/bGTHJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BgtvC', 'Rapid', 'abooseif', 2025, 'Nicholas_Van_Orton', 1906, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Bg4,c4,dxc4,Bxc4,Bxf3,Qxf3,Nc6,Qxf7+,Kd7,Be6+,Kc7,Bf4+,Kb6,Nc3,Nf6,Na4+,Ka5,Bb3,Qxd4,Bd2+,Ka6,Bc4+,b5,Be2,Ne4,Bc3,Qxa4,Qd5,Rc8,b3,Nxc3,Qd7,Qe4,Qxc8+,Ka5,Qc7+,Kb4,O-O,Nxe2+,Kh1,Nc3,a4,g5,axb5,Kxb5,Qb7+,Kc5,Rfc1,Bg7,Re1,Qd4,Ra6,Qd5,b4+,Kc4', 'Rxc6+,Qxc6,Qxc6+', 'https://lichess.org/training/BgtvC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BGUJP', 'Rapid', 'chkids', 2187, 'amsou', 2097, 'e4,e5,d4,exd4,c3,dxc3,Bc4,d6,Nxc3,Nf6,Qb3,Qd7,Bg5,Ng4,Be2,Ne5,f4,Nec6,Nd5,Nd4,Qc4,Nxe2', 'Nxc7+,Qxc7,Qxc7', 'https://lichess.org/training/BGUJP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bgVaO', 'Rapid', 'Lassann', 1992, 'Ramirez11', 2097, 'e4,e5,Nf3,Nc6,Bc4,Be7,d4,exd4,O-O,d6,Nxd4,Ne5,Bb3,Nf6,f4,Nc6,Nxc6,bxc6,e5,Ne4,e6,Bxe6,Bxe6,fxe6,Qg4,O-O', 'Qxe6+,Rf7,Qxe4', 'https://lichess.org/training/bgVaO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BgVUd', 'Rapid', 'vbmbakhshi', 1695, 'dlugilucek', 1635, 'c4,e5,Nc3,Nc6,Nf3,Bc5,e3,Nf6,Be2,h6,d4,Bb4,Qb3,exd4,Nxd4,O-O,Nxc6,dxc6,Qxb4,Bf5,O-O,a5,Qxb7,Rb8,Qxc6,Bd7,Qc5,Ra8,Bf3,Ra6,Nd5,Nxd5,Bxd5,Be6,Bxe6,fxe6,Bd2,Qxd2,Qxc7,Qxb2,Rfb1,Qf6,Rf1,e5,Rab1,Rc6,Qxa5,Rxc4,Rb5', 'Qxf2+,Rxf2,Rc1+,Qe1,Rxe1+,Rf1,Rfxf1#', 'https://lichess.org/training/BgVUd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bgwbD', 'Rapid', 'ed80', 1907, 'themomentisnoww', 1908, 'e4,e5,d4,exd4,Qxd4,Nc6,Qd1,d6,Bd3,Nf6,h3,Be7,Nc3,O-O,Nf3,Nd7,O-O,Nc5,Be2,Bf6,Qe1,Bxc3,Qxc3,Nxe4,Qc4,d5,Qa4,h6,c3,Bd7,Qb3,Bc8,Be3,f5,Rad1,Ne7,g3,f4,Bxf4,Bxh3,Rfe1,Qd7,Ne5,Qe6,Bf3,Nc5,Qc2,Bf5,Qc1,c6,Ng6,Qxg6,Rxe7,Nd3,Qe3,Nxf4,Qxf4,Be4,Bxe4,dxe4,Qxe4,Qxe4,Rxe4,Rae8,Rxe8,Rxe8,Rd7,Rb8,Kg2,Kh7,f4,Kg6,Kf3,h5,g4,hxg4+,Kxg4,a5,f5+,Kf6,Rd6+,Kf7,Kg5,a4,Rd7+,Kg8,Kg6,b5,Rxg7+,Kf8,f6,c5,f7,Rb6+,Kh7,Rf6,Rg8+,Ke7,Rb8,Rxf7+,Kg6,Rf6+,Kg5,b4', 'Rb7+,Ke6,Rb6+,Ke5,Rxf6', 'https://lichess.org/training/bgwbD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BGwrB', 'Rapid', 'Benimacleter', 1853, 'manoelpaim', 1884, 'e4,e5,Bc4,Bc5,Bxf7+,Kxf7,Qh5+,Ke6,Nf3,Qf6,d4,Bxd4,Nxd4+,exd4,Qd5+,Ke7,h4,Qc6,Bg5+,Nf6,Bxf6+,Qxf6,O-O,c6,Qc5+,d6,Qb4,Na6,Qb3,Qxh4,Nd2,Kd7,Rae1,Kc7,Qf7+,Bd7,Qxg7,Rag8,Qxd4,Qg4,g3,h5,Nc4,Rh6,Qxa7,h4,Qb6+,Kb8,Na5,Bc8', 'Nxc6+,Ka8,Qa7#', 'https://lichess.org/training/BGwrB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bgWs6', 'Rapid', 'younes__elm', 2059, 'petechynskiy', 2054, 'e4,e6,b3,d5,Bb2,c5,exd5,exd5,Nf3,Nf6,d4,Nc6,dxc5,Bxc5,Bb5,Qb6,Qe2+,Be6,O-O,O-O,Bxf6,gxf6,Bd3,f5,Ng5,h6,Nh3,Bd4,c3,Bg7,Qh5,Ne7,Nf4,Qd6,Qf3,Ng6,Nh5,Be5,h3,Nh4,Qe2,Rae8,Qd2,Kh7,f4,Bh8,g3,Rg8,Kh2,Ng6,Re1,Bd7,Rxe8,Rxe8,Qc2,Qe6,Nd2,Qe3,Nf1,Qc5,Rd1,d4,cxd4', 'Qxc2+,Bxc2,Re2+', 'https://lichess.org/training/bgWs6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bgXE9', 'Blitz', 'iron-man123', 1781, 'proudpilot', 1786, 'd4,d5,Bf4,Nf6,Nc3,e6,a3,Bd6,Qd2,Bxf4,Qxf4,c5,e3,Qb6,O-O-O,cxd4,exd4,O-O,g4,Bd7,g5,Ne8,Bd3,Nc6,h4,g6,h5,Qxd4,Qh2,Qe5,f4,Qe3+,Kb1,Ng7,hxg6,fxg6,Qxh7+,Kf7,Qxg6+,Kg8,Qh7+,Kf7,Bg6+,Ke7,Qxg7+,Kd6,Nb5+,Kc5,Qxd7,Kxb5,Qxb7+,Kc5,b4+,Kd6,Qa6,Qxf4,Nh3,Qg3,b5,Rab8,Qxc6+,Ke7,Qc5+,Kd7,Qxa7+,Kd6,Qa6+,Ke7,a4,Qa3,Qa7+,Kd6,Nf4,Qb4+,Ka2,Qxf4,Qa6+,Ke7,Qc6,Qxa4+,Kb2,Rxb5+,Kc1,Qa3+,Kd2', 'Rf2+,Ke1,Qe3#', 'https://lichess.org/training/bgXE9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BgYZl', 'Classical', 'Tomurban00', 1935, 'Ordenoverbroen', 1959, 'e4,c5,Nf3,e6,c3,Nc6,d4,d5,e5,Qb6,Be2,Bd7,O-O,Nh6,Be3,Qxb2,Nbd2,Qxc3,Rc1,Qa5,Nb3,Qc7,Nxc5,Nf5,Bf4,f6,Qd2,Bxc5,exf6,Bd6,fxg7,Nxg7,Be5,Rg8,Qg5,Bxe5,Nxe5,Qd8', 'Bh5+,Nxh5,Qxg8+', 'https://lichess.org/training/BgYZl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BGz8p', 'Rapid', 'br12', 1853, 'Mistechess', 1973, 'e4,Nc6,Nf3,f5,e5,d6,d4,dxe5,d5,e4,Ng5,Nf6,dxc6,bxc6,Qxd8+,Kxd8,Bc4,Ke8,Nf7,Rg8,Ne5,e6,Nxc6,Bc5,O-O,Ng4,b4,Bd6,g3,Bb7,b5,a6,a4,axb5,Bxb5,Kf7,Bb2,e3,f3,Nf2,Nc3,Bc5,Rfe1,Nh3+,Kg2,Ng5,f4,Ne4,Nxe4,fxe4,Bc1,e2,Rxe2,e3,Bxe3,Bd6,Bd4,h6,Be5,g5,Bxd6,cxd6,Rae1,Rgc8,Rxe6,Bxc6+,Bxc6,Rxc6,Re7+,Kf8,fxg5,Rxc2+,Kh3,hxg5,Rh7,Rxa4,Rd1', 'g4+,Kh4,Rxh2+,Kg5,Rxh7', 'https://lichess.org/training/BGz8p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BGzsP', 'Rapid', 'wjadro2', 1678, 'ethikett', 1646, 'e4,g6,Nf3,Bg7,d4,e6,Be3,b6,Bd3,Bb7,c3,Ne7,Nbd2,h6,Qc2,g5,h3,d6,a3,c5,Bb5+,Nd7,Qa4,a6,Bxd7+,Qxd7,Qxd7+,Kxd7,e5,cxd4,cxd4,Nf5,Nc4,Kc6,Rc1,Kb5,Ke2,d5,Nd6+,Nxd6,exd6,Rac8,Ne5,f5,d7,Rxc1,Rxc1,Rd8,Rc7,Bxe5,dxe5,Bc6,g3,Rxd7', 'a4+,Kxa4,Rxc6', 'https://lichess.org/training/BGzsP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bh0go', 'Rapid', 'Ahmadabdulfattah', 1823, 'eba4aaa', 1803, 'e4,c5,b4,b6,bxc5,bxc5,Nf3,d6,c3,g6,d3,Bg7,Qc2,Bd7,h4,Bg4,Be2,Nf6,Ng5,Bxe2,Qxe2,O-O,h5,Nc6,h6,Bh8,f4,Nh5,Rxh5,gxh5,Qxh5,Qd7,Na3,Bxc3+,Ke2,Nd4+,Ke3,Bxa1,Nc4,Nc2+,Kd2,f6,Nh3,Nd4,f5,Qe8', 'Qg4+,Qg6,fxg6', 'https://lichess.org/training/Bh0go');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bh1sT', 'Classical', 'bilalchkair12', 1797, 'PIlover314159265', 1776, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,e6,f3,Be7,Be3,Bd7,Qd2,Nc6,O-O-O,a6,g4,b5,h4,b4,Na4,Nxd4,Bxd4,Bxa4,h5,e5,Be3,Rc8,Bd3,d5,exd5,Nxd5,Kb1,Nxe3,Qxe3,Bd6,g5,Bb5,g6,Bxd3,Rxd3,Qf6,gxf7+,Kxf7,h6,g6,Rhd1,Rhd8,Qb6,Bc7', 'Rd7+,Rxd7,Rxd7+', 'https://lichess.org/training/Bh1sT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bH39K', 'Rapid', 'kacpergawlo', 1731, 'Maxon1979', 1680, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,d4,d6,Nf3,Qxe4+,Be2,Be7,O-O,Qg6,Nc3,h6,Bd3,Bf5,Nh4,Bg4,Nxg6,Bxd1,Nxh8,Bh5,Ne4,Nbd7,Re1,O-O-O,Nxf6,Bxf6,Nxf7,Bxf7,Be3,Nb6,Bf5+,Kb8,c3,Bd5,b4,Nc4,a4,b6,a5,Rf8,axb6,axb6,Ra2', 'Nxe3,fxe3,Bxa2', 'https://lichess.org/training/bH39K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BH3l8', 'Rapid', 'katayama', 1748, 'AdrianoNunesFX', 1758, 'f4,d5,e3,c5,c4,Nf6,h3,g6,Nf3,Bg7,Be2,O-O,Qc2,Nc6,Nc3,b6,h4,Bf5,Qa4,Qd7,Ne5,Nxe5,fxe5,Qxa4,Nxa4,Ne4,h5,dxc4,Bxc4,Bxe5,hxg6,Bg3+,Ke2,Bxg6,d3,Nd6,Bd5,Rad8,e4,e6,Bb3,c4,Bc2,cxd3+,Bxd3,Nxe4,Bb5,Nf2,Rf1,Bh5+,Ke3,Ng4+,Ke4,Bg6+,Kf3,Nh2+,Kxg3,Nxf1+,Bxf1,Rd1,Bb5,Rc8,Nc3,Re1,Ne2,Rc2,Kf2,Rh1,b3,Bh5,Bb2,Rxa1,Bxa1,Bxe2,Bxe2,Rxa2,Bf6,a5,Kf3,Rxe2,Kxe2,b5,Kf3,a4,bxa4,bxa4,Ke3,h5,Kd3,Kh7,Kc3,Kg6,Be7,e5,Kb4,f5,Kxa4,f4,Kb3,Kf5,Kc2,Ke4,Kd2,f3,g3,Kf5,Ke3,Kg4,Bh4,e4,Kf2,Kh3,Ke3', 'Kg2,Kxe4,f2', 'https://lichess.org/training/BH3l8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bh3Nu', 'Rapid', 'Gisman', 1769, 'thomarr', 1799, 'e4,c5,d3,g6,Nf3,Bg7,Nc3,d6,Bd2,Nf6,Be2,O-O,O-O,e5,Bg5,Qb6,Rb1,Nc6,Bxf6,Bxf6,Nd5,Qd8,Nxf6+,Qxf6,c3,Bg4,Nd2,Bxe2,Qxe2,Rad8,Nc4,d5,exd5,Rxd5,Ne3,Rd7,Nc4,Rfd8,Rbd1,b5,Ne3,e4,dxe4,Rxd1,Rxd1,Rxd1+,Qxd1,Qe5,Qd5,Qxd5,Nxd5,Ne5,Nc7,b4,cxb4,cxb4,Nd5,a5,a3,bxa3,bxa3,Nc4,a4,Kf8,f3,Ke8,Kf2,Kd7,Ke2,Kc6,Nc3,Kc5,Kd3,Kb4,g4,Nb2+,Kc2,Nxa4,Nxa4,Kxa4,f4,Kb4,f5,gxf5,exf5,a4,Kb2,a3+,Kc2,Kc4,g5,Kd4,h4,Ke4,g6,fxg6', 'f6,a2,Kb2', 'https://lichess.org/training/Bh3Nu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bH728', 'Rapid', 'jaepa73', 2157, 'Shen_Wu', 2382, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,Nd4,Nxd4,exd4,Qh5,Bb6,e5,Ne7,d3,c6,Bc4,Nd5,Bg5,Qc7,Nd2,Ba5,Nb3,h6,Nxa5,Qxa5,f4,O-O,Rf3,Ne3,Bxh6,d5,Bxg7,Kxg7,Rg3+,Bg4,f5,Rg8,Rxg4+', 'Nxg4,Qxg4+,Kf8', 'https://lichess.org/training/bH728');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bH8ET', 'Classical', 'alexander3244', 1804, 'Ivancarias', 1812, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,Nc6,Bg5,e6,O-O,Be7,Nxc6,bxc6,Bd3,O-O,a3,Rb8,b4,h6,Be3,Qc7,Qe2,a5,bxa5,Qxa5,Bd2,Qc7,Na4,e5,Rfb1,Be6,Nb6,Rxb6,Rxb6,Qxb6,Be3,Qb2,Qd1,Rb8,a4,Ng4,Bd2,Bd8,a5,Qd4,Be1,Bh4,g3,Bg5,a6,Ra8,Kg2,d5,exd5,Bxd5+,Kg1,Bf3,Qb1,c5,a7,Bd2', 'Qb8+,Qd8,Qxd8+', 'https://lichess.org/training/bH8ET');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bh8V0', 'Rapid', 'Resaalig', 1687, 'bariskhan', 1708, 'e4,e6,d4,d5,exd5,exd5,c4,c6,Nc3,Nf6,Bg5,Be7,Nf3,O-O,h3,h6,Bxf6,Bxf6,Bd3,Re8+,Ne2,Nd7,O-O,a5,Re1,a4,Ng3,a3,bxa3,Rxa3,cxd5,cxd5,Nh5,Rxe1+,Nxe1,Qb6,Nxf6+,Nxf6,Rc1,Bd7,Rb1,Qxd4', 'Bh7+,Kxh7,Qxd4', 'https://lichess.org/training/Bh8V0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BH8Yc', 'Rapid', 'aldocayata', 1994, 'Zunik', 1828, 'd4,d5,Nc3,Nf6,f3,e6,Bg5,Bb4,Qd2,O-O,O-O-O,c5,e4,dxe4,fxe4,cxd4,e5,Nc6,exf6,dxc3,Qxd8,Rxd8,Rxd8+,Nxd8,fxg7,cxb2+,Kxb2,Nc6,Bb5,Kxg7,Nf3,a6,Bd3,Be7,Bxe7,Nxe7,Rf1,f6,g4,e5,g5,Bh3,Rf2,f5,Nxe5,Rd8,Rf3,Bg4,Nxg4,fxg4,Rf4,Nc6,Rxg4,Ne5,Rg3,Nxd3+,Rxd3,Rf8,Rd7+,Rf7,Rxf7+,Kxf7,Kc3,Kg6,h4', 'Kh5,Kd4,Kxh4', 'https://lichess.org/training/BH8Yc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bhakk', 'Rapid', 'luisfunstuff', 2268, 'ralex88', 2228, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,Nf6,Nf3,Nc6,Bf4,Bf5,Qb3,Na5,Qa4+,Bd7,Qc2,e6,e3,Be7,Bd3,O-O,O-O,h6,h3,Nc6,a3,a6,Rfe1,b5,b4,Rc8,Qb3,Qb6,Ne5,Rfd8,Nxd7,Nxd7,Rad1,Qb7,Bb1,Nb6,Qc2,Bf6,Qd3,Nc4,Ne2,g6,Bxh6,Nb2,Qd2,Nxd1,Rxd1,Ne7,Nf4,Nf5,Bxf5,gxf5,Nh5,Qe7,Qe2,Kh7,Bf4,Rg8', 'Nxf6+,Qxf6,Qh5+,Kg7,Be5,Qxe5,dxe5', 'https://lichess.org/training/Bhakk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BHcD4', 'Blitz', 'masterofchessss', 1989, 'NM noggis', 2404, 'c4,c6,Nc3,d5,cxd5,cxd5,g3,Nf6,Bg2,Nc6,d3,Bg4,Nf3,e6,O-O,Be7,b3,O-O,Bb2,Rc8,Rc1,a6,h3,Bxf3,Bxf3,b5,e4,Nd4,exd5,Nxf3+,Qxf3,exd5,Rfe1,Bb4,Red1,Re8,a3,Ba5,b4,Bb6,Ne2,Rxc1,Rxc1,Qe7,Bxf6,gxf6,Nf4,Bd4,Nxd5,Qe5,Rc6,Re6,Rxe6,fxe6,Ne3,f5,Qa8+,Kg7,Qb7+,Kg6,Qf3,Bb2,g4,Bxa3,gxf5+,exf5,Qg2+,Kh6,h4,Qf6,f4,Qg6,Qg5+,Qxg5+,hxg5+,Kg6,Nd5,Bc1,Kf2,h6,gxh6,Kxh6,Kf3,Kh5,Nc7,a5,bxa5,b4,a6,b3,a7,Bxf4,Kxf4,b2,a8=Q,b1=Q,Qh8+,Kg6,Qg8+,Kh6,Qg5+,Kh7,Qxf5+,Kg8,Qg6+,Kh8,Qh6+,Kg8,Ne6', 'Qc1+,Ke5,Qxh6', 'https://lichess.org/training/BHcD4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bHCJK', 'Rapid', 'systemd_vs_systemV', 1690, 'billgul', 1816, 'e3,e5,b3,Nf6,Bb2,e4,d3,exd3,Qxd3,Be7,Nf3,O-O,Ng5,g6,h4,Nh5,f4,Bxg5,hxg5,d5,Nd2,Bf5,Qc3,f6,O-O-O,Nc6,Be2,d4,exd4,Nxf4,Bc4+,Nd5,Nf3,fxg5,Kb1,Kh8,Bxd5,Qxd5,Nxg5,h5,Nf3,a5,Ne5,Nb4,Rc1,Kh7,g4,Bxc2+,Ka1,Be4,Rh2,Rf3,Nxf3,Bxf3,Qxc7+,Kh6,g5+,Qxg5,Rf1,Nd5,Qxb7,Re8,Bc1,Re3,Rxf3,Re1,Rc2', 'Rxc1+,Kb2,Rxc2+,Kxc2,Qg2+', 'https://lichess.org/training/bHCJK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bHclc', 'Rapid', 'MTKhan', 1648, 'Jacko68', 1615, 'g3,d5,Bg2,e5,b3,Nf6,Bb2,Bd6,d3,O-O,Nd2,Be6,Ngf3,Nc6,O-O,Qd7,Ng5,h6,Nxe6,fxe6,a3,Ne7,c4,d4,Qc2,c6,b4,Ng6,c5,Bc7,Nc4,Qf7,e3,Rad8,exd4,exd4,Rae1,e5,Nd2,Ne7,Nf3,Ng6,Qe2,Qb3,Bc1,Nd5,Qb2,Qxd3,Rd1,Qc4,Nd2,Qc3,Qxc3,Nxc3,Rde1,Nd5,Bxd5+,Rxd5,Nc4,Bd8,Nd6,d3,Bb2,d2,Rd1,Rf3,Nxb7,Be7,Kg2,Rb3,Ba1,Rxa3,Na5,e4,Nxc6,Bg5,h4,Nxh4+,gxh4,Bxh4,Rh1,Rg5+,Kf1,Bxf2,Kxf2', 'Rf3+,Ke2,Rg2#', 'https://lichess.org/training/bHclc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BHCz3', 'Classical', 'najariali', 2226, 'faustopuntier', 2260, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,Bg7,Bc4,O-O,Ne2,Nc6,O-O,b6,f4,Bb7,e5,Na5,Bd3,c5,Be3,Qd5,Rf3,Nc4,Qf1,Nxe3,Rxe3,cxd4,cxd4,Rac8,Be4,Qd7,Bxb7,Qxb7,Qf3,Qxf3,Rxf3,Rc2,Kf2,Rfc8,Rd3,e6,d5,exd5,Rxd5,Bf8,Kf3,R8c4,Rd4,Bc5,Rxc4,Rxc4,Rc1,Ra4,Rc2,Ra3+,Ke4,Kf8,Nc3,Ke8,Kd5,Kd7,g4,a6,f5,Bb4,Ne4,Ra5+,Kc4,b5+,Kd5,Be7,e6+,fxe6+,fxe6+,Kd8,Nd6,b4+,Kc6,Ra3,Nf7+,Ke8,Kd5,Rc3,Rf2,Rc5+,Ke4,a5,Ne5,a4,Rf7,b3,axb3,a3,Rf2,Rc3,b4,Bxb4,Kd5,Rc5+,Kd4,Ra5,Ra2,Bc3+,Kxc3,Rxe5,Rxa3', 'Re3+,Kb2,Rxa3,Kxa3,Ke7,Kb4,Kxe6', 'https://lichess.org/training/BHCz3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bhDPF', 'Rapid', 'algorhym3', 1824, 'Ovent', 1998, 'c4,e6,Nc3,d5,cxd5,exd5,d3,d4,Ne4,f5,Ng5,h6,N5f3,Nf6,Qa4+,Nc6,Bf4,Bb4+,Bd2,Bxd2+,Nxd2,O-O,g3,a6,Bg2,Bd7,Qb3+,Kh8,Qxb7,Rb8,Qxa6,Rb6,Qa3,Ng4,Ngf3,f4,Ne4,fxg3,hxg3,Rf5,Nh4,Ra5,Ng6+,Kh7,Nf8+,Kg8,Nxd7,Rxa3,Nxb6,Ra5,Nc4,Rf5,Rh4,Nce5,Nxe5,Nxe5,Rc1,Qb8,b3,Qb4+,Kf1,Qa3,Rxc7,Qxa2,Bh3,Rf8,Be6+,Kh8,f4,Ng6,Rg4,Kh7,f5,Qa5,Rd7,Rxf5+,Bxf5', 'Qxf5+,Nf2,Qxd7', 'https://lichess.org/training/bhDPF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BheoV', 'Rapid', 'Anfaenger2015', 2163, 'hamaei', 1972, 'd4,Nf6,c4,d5,cxd5,Nxd5,Nf3,c6,e4,Nb6,Nc3,g6,h3,Bg7,Be3,O-O,Be2,N8d7,O-O,e5,d5,cxd5,exd5,Nf6,Nxe5,Nfxd5,Nxd5,Nxd5,Bd4,Qg5,Nf3,Qf4', 'Bxg7,Kxg7,Qxd5', 'https://lichess.org/training/BheoV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BHfIF', 'Rapid', 'fox1122', 1830, 'MyFightingDuality', 1847, 'd4,d5,Nc3,c6,Nf3,Bf5,e3,e6,Bd3,Bg6,Bxg6,hxg6,Bd2,Bd6,g3,Nd7,e4,dxe4,Nxe4,Bc7,Nfg5,Ngf6,Qf3,Qe7,O-O-O,O-O-O,Qb3,Nxe4,Nxe4,Kb8,Bb4,Qe8,Nd6,Bxd6,Bxd6+,Ka8,Rd3,Nb6,Bc5,Nc8,Qb4,Rd7,Ra3,Qd8,d5,exd5,Qa4,a6,Rd1,Rxh2,Qb3,Qg5+,Kb1,Qg4,Re1,Qh5,Qe3,d4,Qe8,Rc7,Bb6,Rh1,Bxc7', 'Qd1+,Rxd1,Rxd1#', 'https://lichess.org/training/BHfIF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bhfTd', 'Rapid', 'Nshan2008', 1966, 'Just_4Fun', 1798, 'e4,d6,d4,Nf6,Bd3,g6,c4,Bg7,Nf3,Bg4,Bf4,Nc6,Bc2,Bxf3,gxf3,e5,dxe5,Nxe5,Bxe5,dxe5,Nc3,Nh5,Nd5,c6,Ba4,O-O,Nc3,Qd4,Bb3,Nf4,Qxd4,exd4,Ne2,Nxe2,Kxe2,c5,Kd3,f5,Rhf1,b6,Rae1,Rae8,Ba4,Re5,Bc6,Rf6,Bd5+,Kf8,f4,fxe4+,Rxe4,Rxe4,Kxe4,Bh6,f3,Rxf4+,Kd3,Ke7,Re1+,Kf8,Be4,Kg7,Bc6,Kf6,Bd5,Rh4,Re6+,Kf5,Re2,Rh3', 'Be6+,Kf6,Bxh3', 'https://lichess.org/training/bhfTd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BHGQC', 'Rapid', 'Kastropov12', 1711, 'knightoftheboards', 1760, 'e4,e6,Nf3,d5,exd5,exd5,c4,Be7,cxd5,Qxd5,Nc3,Qd8,Bc4,Nf6,O-O,O-O,d3,h6,h3,Nc6,Re1,Bd7,Nd5,Nxd5,Bxd5,Rb8,Bxc6,Bxc6,Ne5,Qd5', 'Nxc6,Qxc6,Rxe7', 'https://lichess.org/training/BHGQC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bhhdv', 'Rapid', 'bigboytanlydong', 1763, 'drakos44', 2004, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Nc3,Nf6,e5,dxe5,Qxd8+,Kxd8,Bg5,Be7,Rd1+,Bd7,Bb5,c6,Bc4,Rf8,Be2,h6', 'Bxf6,Bxf6,Bg4', 'https://lichess.org/training/bhhdv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bHHEz', 'Rapid', 'mrincredibuell', 1784, 'AgustinXZXZ', 1802, 'd4,d5,Bf4,Nf6,Nf3,c5,c3,e6,e3,Nc6,Bd3,Bd6,Nbd2,O-O,Bg3,Qc7,Qb3,c4,Nxc4,dxc4,Qxc4,Bd7,O-O-O,Na5', 'Qxc7,Bxc7,Bxc7', 'https://lichess.org/training/bHHEz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BHJn8', 'Rapid', 'stanimirsimic', 1946, 'haronkhamis99', 1891, 'Nf3,e6,e4,b6,d4,Bb7,Bd3,Nf6,Qe2,d5,e5,Ne4,O-O,Nc6,c3,Qe7,Bxe4,dxe4,Qxe4,O-O-O,Qe2,h6,Re1,g5,h3,Bg7,Nh2,h5,Nf3,g4,Nfd2,gxh3,gxh3,Qg5+,Kf1,Nxd4,Ne4,Qxc1,cxd4,Qf4,Qe3,Qf5,Nbc3,Rhg8,Ng3,Qxh3+,Ke2,Qg4+,Kd2,Rxd4+,Kc2,Rh8,Rad1,Rxd1,Rxd1,Bh6,Qd3,h4,Nge4,b5,Qd7+,Kb8,Nc5,Qf5+,Kb3,Qxe5,Qxb5,Qxc5,Qxc5,Bf8,Qb5,Bd6,Na4,h3,Rh1,Ka8,Rxh3,Bd5+,Kc2,Rxh3,Qe8+,Kb7,Qxf7,Be4+,Kd2,Bb4+,Ke2', 'Bd3+,Kd1,Rh1#', 'https://lichess.org/training/BHJn8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bHjV2', 'Rapid', 'flamered_07', 1779, 'cliff2509', 1876, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bd3,e6,Bg5,Be7,Nb3,Qc7,Qd2,Nbd7,O-O-O,Ne5,Be2,O-O,Bxf6,gxf6,Kb1,b5,a3,Bb7,f4,Ng6,h4,Rfd8,h5,Nf8,f5,e5,h6,Kh8,Qe3,Nd7,Nd5,Bxd5,exd5,Rg8,Bh5,Raf8,g4,Rg5,Nd2,Bd8,Nf3,Rgg8,Rhg1,Nb6,b3,Nd7,g5,fxg5,Nxg5,Nf6,Bxf7,Rxf7,Nxf7+,Qxf7,Rxg8+,Nxg8,Qg3,Bf6,Rg1,Qxd5', 'Qg7+,Bxg7,hxg7#', 'https://lichess.org/training/bHjV2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bHlYz', 'Rapid', 'gustavohsa', 1757, 'Dael74', 1782, 'e4,e6,d3,d5,e5,c5,f4,Nc6,Nf3,Nh6,h3,Nf5,c3,Be7,g4,Bh4+,Kd2,Ng3,Rg1,Nxf1+,Qxf1,Be7,Kd1,b5,Nbd2,b4,c4,dxc4,Nxc4,Ba6,b3,Na5,Bd2,Nxc4,bxc4,Qa5,Ke2,Rd8,Kf2,Qa3,d4,cxd4,Qc1,Qxc1,Rgxc1,Bc5,Ne1,d3+,Kg3,Rd4,Nf3,Rxc4', 'Rxc4,Bxc4,Rc1,Bxa2,Rxc5', 'https://lichess.org/training/bHlYz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bHm1d', 'Rapid', 'WadeWilson', 2041, 'Agro-nom28', 1794, 'Nf3,d5,c4,d4,e3,c5,b4,dxe3,fxe3,cxb4,d4,Bg4,Be2,e6,O-O,Nf6,Ne5,Bxe2,Qxe2,Bd6,Bb2,Nbd7,Nd2,O-O,c5,Bc7,Rad1,Nd5,Ne4,Qh4,Ng3,Nc3,Bxc3,Nxe5,Rf4,Qg5,Ne4,Qg6,Ba1,Nd7,Rg4,Qh5', 'Rxg7+,Kxg7,Qxh5', 'https://lichess.org/training/bHm1d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BHm3G', 'Rapid', 'Elgenio', 1695, 'camus133', 1700, 'd4,Nf6,Bf4,c5,e3,d5,Nd2,Nc6,c3,e6,Bd3,h6,Ngf3,cxd4,exd4,Bd6,Ne5,Bxe5,dxe5,Nd7,Bg3,Ndxe5,Bc2,b6,Qe2,Ng6,O-O-O,O-O,h4,a5,h5,Ba6,Qe3,Nge7,Be5,Nxe5,Qxe5,b5,g4,b4,cxb4,axb4,g5,Nc6,Qg3,Qxg5,Qxg5,hxg5,Nf3,f6,h6,gxh6,Rxh6,Be2,Rdh1,Bxf3', 'Rh8+,Kf7,R1h7+,Ke8,Bg6+,Kd8,Rxf8#', 'https://lichess.org/training/BHm3G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bhMzK', 'Rapid', 'Amedeus31', 1648, 'aueinbl', 1676, 'd4,e6,Bf4,d5,e3,g5,Bg3,Nf6,Nf3,Ne4,Nbd2,Nxg3,hxg3,h5,c4,Bb4,a3,Ba5,b4,Bxb4,axb4,Bd7,cxd5,exd5,Ne5,Nc6,Bb5,Nxe5,Bxd7+,Nxd7,Nf3,Qe7,Qa4,c6,b5,Nb6,Qa2,Nc4,bxc6,bxc6,Ne5,Qb4+,Kf1,Nd2+,Kg1,Nc4,Nxc6,Qd6,Qa4,O-O,Rxh5,Rac8,Rxg5+,Kh7,Ne5,Nxe5,Rxe5,Qh6,Rxd5,Kg7,Rd7,Rh8,Kf1,Qh1+,Ke2,Qh5+,f3,Qf5,Qxa7,Ra8,Rxf7+,Qxf7,Qxf7+,Kxf7,Rxa8,Rxa8,f4,Ra2+,Kf3,Ra3,g4,Kf6,g3,Kg6,f5+,Kf6', 'Kf4,Ra4,g5+', 'https://lichess.org/training/bhMzK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bhneE', 'Rapid', 'KhaliLuffy', 1558, 'tracing', 1555, 'd4,e6,e4,d5,e5,Nc6,Bb5,a6,Bxc6+,bxc6,Nf3,Bb4+,c3,Be7,O-O,Bd7,h3,c5,b4,cxd4,Qxd4,f6,Na3,fxe5,Qxe5,Bf6,Qh5+,g6,Qg4,Qe7,Bb2,O-O-O,Nd4,Bxd4,cxd4,Nf6,Qf3,Rhf8,Qe3,Qxb4,Rab1,Qd6,Qb3,c5,dxc5,Qxc5,Bd4,Qc7,Bb6,Qb7,Bxd8,Qxb3,axb3,Rxd8,b4,Bb5,Nxb5,axb5,Rfc1+,Kd7,Rc5,Rb8,Rbc1,Rb6,Rc7+,Kd6,Rc8,e5,Rf8,Ne4,Rd8+,Ke6,Re8+,Kd6,Rh8,h5,Rh6,Ke7,Rc7+,Kd6,Rg7,Rb8,Rgxg6+,Ke7,Rxh5,Nf6,Rxe5+,Kf7,Reg5,Ra8,Rg7+,Ke6,f4,d4,Re5+,Kd6,Rxb5,Ra1+,Kh2,d3,Ra5', 'Rxa5,bxa5,d2,a6,d1=Q', 'https://lichess.org/training/bhneE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BhnU9', 'Classical', 'Freador', 1754, 'alijkt46', 1964, 'd4,d5,c4,dxc4,Nc3,a6,e3,b5,a4,b4,Ne4,Bb7,Qf3,Nf6', 'Nxf6+,exf6,Qxb7', 'https://lichess.org/training/BhnU9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BhooQ', 'Rapid', 'MhammadHajAhmad', 1794, 'Elenka59', 1889, 'b4,Nf6,Bb2,Nc6,b5,Nb8,e4,Nxe4,Qe2,Nd6,Nf3,f6,c4,e5,c5,Nf7,d4,Be7,dxe5,Bxc5', 'exf6+', 'https://lichess.org/training/BhooQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BHPRz', 'Blitz', 'Oguzxx', 1813, 'abesso', 1771, 'e4,Nf6,Nc3,Nc6,Nf3,e6,Bb5,a6,Ba4,b5,Bb3,Na5,O-O,Nxb3,axb3,Bb4,Re1,Bb7,e5,Nd5,Nxd5,Bxd5,c3,Be7,d4,h6,Qe2,Bxb3,Be3,Bc4,Qd1,Bd5,Rc1,Bg5,c4,Bxe3,fxe3,bxc4,Qa4,Bxf3,gxf3,O-O,Kh1,f6,Qxc4,fxe5,Rg1,Rxf3,Rg2,Qf6,Rcg1,g5,Qxc7,Rf8,Qxd7,Rf1,dxe5,Rxg1+,Rxg1,Qf3+,Rg2,Qe4,Qxe6+,Kg7,Qxa6,Qb1+,Rg1,Qe4+,Rg2,Qxe3,Qb7+,Rf7,Qd5', 'Rf1+,Rg1,Qxg1#', 'https://lichess.org/training/BHPRz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bHqFE', 'Blitz', 'PietervanForeest', 2185, 'vishynotananand', 1570, 'e4,e5,f4,d6,Nf3,Bg4,fxe5,dxe5,Bc4,Nc6,d3,Nd4,Bxf7+,Kxf7,Nxe5+,Ke8,Qxg4,Nxc2+,Kd2,Nxa1,Qh5+,g6,Nxg6,hxg6,Qxg6+,Kd7,Rf1,Kc8,Qf5+,Qd7', 'Qxf8+,Qd8,Qxd8+,Kxd8,Rf8+,Ke7,Rxa8', 'https://lichess.org/training/bHqFE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bhRNF', 'Blitz', 'Tachtich', 1604, 'bley', 1600, 'e4,e5,Bc4,g6,c3,Bg7,Nf3,d6,h3,f6,Qb3,Nc6,Bxg8,Qe7,Bd5,Bd7,Qxb7,Rd8,Bxc6,Bxc6,Qxc6+,Qd7,Qxd7+,Rxd7,O-O,h5,a4,g5,d4,g4,hxg4,hxg4,Nh2,Bf8,Nxg4,Rdh7,f3,Kf7,dxe5,dxe5,Nd2', 'Bc5+,Ne3,Bxe3+,Rf2,Rh1#', 'https://lichess.org/training/bhRNF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bHRqs', 'Rapid', 'Henk', 1904, 'wifty_lolwut', 1765, 'd4,e6,c4,f5,Nc3,Nf6,Bg5,Be7,Qc2,Nc6,Nf3,O-O,e3,b6,Bd3,Nb4,Qd1,Nxd3+,Qxd3,Bb7,O-O,Bxf3,gxf3,Nh5,Bxe7,Qxe7,Kh1,Qh4,Rad1,c6,Rd2,Rf6,d5,cxd5,cxd5,e5,d6,Raf8,Nd5,Rg6,Ne7+,Kh8,Nxg6+,hxg6,Rg1,Kh7,Qf1,Rh8,Qg2,Kg8,f4,Nf6,f3,e4,Qxg6,Rh7,fxe4,Ng4,Rdg2', 'Qxh2+,Rxh2,Rxh2#', 'https://lichess.org/training/bHRqs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BhrSQ', 'Blitz', 'IM KamranShirazi', 2563, 'GM mrchess2013', 2498, 'e3,c5,Ne2,Nc6,d4,cxd4,Nxd4,Nf6,g4,Nxd4,Qxd4,d6,g5,Qa5+,Nc3,Qxg5,Bb5+,Bd7,Bxd7+,Nxd7,Nd5,Rc8,e4,Qg2,Rf1,e6,Ne3,Qxh2,Qxa7,Rb8,Bd2,Qh5,Bb4,Be7,Qa4,b5,Qa7,Qf3,Rd1,Qxe4,Bxd6,Qb7', 'Bxb8,Qxa7,Bxa7', 'https://lichess.org/training/BhrSQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BhRT5', 'Blitz', 'martinbelton', 1612, 'sabijan-8', 1604, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Bd7,Nc3,Nc6,Nxc6,Bxc6,Bd3,Nf6,O-O,Be7,Re1,O-O,Bg5,a6,Qf3,h6,Bh4,Nh7,Bg3,Ng5,Qh5,Bf6,h4,Nh7,Bf4,Bxh4,Bxh6,Qf6,Be3,g6,Qh6,Bg5,Bxg5,Qxg5,Qh3,Kg7,Rf1,Nf6,f4,Qc5+,Rf2,Rh8,Qg3,Rh6,e5,dxe5,fxe5,Nd5,Qf3,Rf8,Nxd5,Bxd5,Qf6+,Kh7,Rf1,Qc6,Qg5,Kg7,Rf6,Qc5+,R1f2,Rfh8', 'Rxf7+,Bxf7,Qf6+,Kg8,Qxf7#', 'https://lichess.org/training/BhRT5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bhSR2', 'Rapid', 'Chessvesterson', 1700, 'Rakki_Krish', 1685, 'e4,c5,Nf3,g6,d4,cxd4,Qxd4,Nf6,e5,Nc6,Qd1,Nxe5,Bd2,Nxf3+,Qxf3,Bg7,Bc3,d5,Bb5+,Bd7,Bxd7+,Qxd7,O-O,O-O,Bd4,Rfe8,Re1,b6,Nc3,Rad8,Rad1,Qf5,Qxf5,gxf5,f4,e6,Nb5,Rd7,Be5,Ng4,Bxg7,Kxg7,h3,Nf6,Na3,Rc7,b3,a6,c4,Ne4,cxd5,Nc3,Rd3,Nxd5', 'Rxd5,exd5,Rxe8', 'https://lichess.org/training/bhSR2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BhtKM', 'Rapid', 'plomba', 2012, 'SLEEPING', 2085, 'd4,f5,g3,Nf6,Bg2,e6,c4,c6,Nc3,d5,cxd5,exd5,Bg5,Be7,Qc2,h6,Bf4,O-O,Rb1,Be6,Nf3,Nbd7,b4,Rc8,O-O,Ne4,a4,a5,bxa5,Qxa5,Nxe4,fxe4,Ne5,Nxe5,Bxe5,b5,axb5,cxb5,Qb2,b4,h4,Rc3,Qd2,Rfc8,Rb2,b3,Rxb3,Bg4,Rxc3,Rxc3,Rb1,Qa3,Rb8+,Kh7,Rh8+,Kxh8', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/BhtKM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BHtMK', 'Rapid', 'mighty_ducks_8', 1680, 'lucianodaniel', 1642, 'e4,e5,Nf3,Nc6,Bc4,h6,Nc3,Nf6,Bb3,Bc5,Nxe5,Nxe5,d4,Neg4,dxc5,O-O,h3,Ne5,Bf4,Nc6,e5,Nh7,O-O,Qh4,Qd2,d5,exd6,cxd6,Qxd6,Bxh3,Bg3,Qh5,Qc7,Be6,Bxe6,fxe6,Qxb7,Nd4,Qd7,Nxc2,Qxe6+,Kh8,Rac1,Nb4,a3,Nd3,Rc2,Rae8,Qd6,Nxc5,Nd5,Nd3,Ne7,Rf6,Qxd3,Rxe7,Qd8+,Re8,Qd7,Rff8,Rfc1,Nf6,Qb7,Rb8,Qxa7,Rbd8,Qb7', 'Rd1+,Rxd1,Qxd1+', 'https://lichess.org/training/BHtMK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bhUMy', 'Classical', 'waltersafarian', 2130, 'EvilChess', 2030, 'd4,g6,c4,c5,d5,e5,e4,d6,Ne2,Bg7,Nec3,Ne7,g4,h5,g5,Nd7,Be3,f5,gxf6,Nxf6,f3,O-O,h4,a6,Qd2,Kh7,Qe2,Bd7,Bh3,Rb8,Bxd7,Qxd7,a4,b6,Nd2,Ne8,Ndb1,Nc7,Na3,Nc8,Qg2,Qf7,O-O,Na7,Kh1,Rb7,Rf2,b5,axb5,axb5,Naxb5,Naxb5,cxb5,Nxb5,Nxb5,Rxb5,Rg1,Rb3,Qg5,Qf6,Kg2,Rfb8,Bc1,Rf8,Rgf1,Qf7,f4,Bh6,fxe5', 'Qxf2+,Rxf2,Rxf2+,Kxf2,Bxg5', 'https://lichess.org/training/bhUMy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bhvdh', 'Blitz', 'Trombosilisk', 2346, 'AlaaFathallah', 2177, 'd3,c5,f3,d5,Kf2,Nf6,Ke3,g6,Kd2,Bh6+,Ke1,Bg7,e4,dxe4,dxe4,Qc7,Bb5+,Bd7,Bxd7+,Nbxd7,Kf2,O-O,Nc3,Rad8,Nge2,Ne5,Qe1,c4,Kf1,Qc5,Qf2,Qd6,Qxa7,Rd7,Be3,Nc6,Qa4,Ne5,Qb5,Rfd8,Bb6,Rc8,f4,Neg4,e5,Qd2,h3,Rdd8,hxg4,Nxg4,Bxd8,Ne3+,Kg1,Rxd8,Qxb7,Ng4,Rh3,e6,Qc7,Bf8,a4,Bb4,Qb6,Bxc3,bxc3', 'Qd1+,Rxd1,Rxd1#', 'https://lichess.org/training/bhvdh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bHwxK', 'Blitz', 'GM Tigran-Harutyunyan', 2780, 'Garoy', 2658, 'Nf3,d5,d4,Nf6,c4,c6,e3,e6,Nc3,Nbd7,b3,Bd6,Bb2,O-O,Be2,b6,O-O,Bb7,Bd3,Qc7,Rc1,e5,cxd5,exd4,exd4,Bf4,Rc2,Qd6,g3,Bh6,Ne5,Nxd5,Nxd5,Qxd5,Bc4,Qd6,Qh5,Nxe5,dxe5,Qg6,Qxg6,hxg6,Rd1,Rfd8,Rxd8+,Rxd8,e6,Rd1+,Kg2,c5+,f3,fxe6,Bxe6+,Kh7,h4,Rd3,Bg4,Be3,Re2,b5,Rc2,Bd5,Kf1,c4,bxc4,bxc4,Ke2,Bb6,Rc3', 'Bd4,Rxd3,cxd3+,Kxd3,Bxb2', 'https://lichess.org/training/bHwxK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BhXxf', 'Rapid', 'eranyo', 2246, 'Mehmet_Eren_1919', 1856, 'e4,e5,Nc3,Bb4,Nf3,Nc6,d4,Nxd4,Nxd4,exd4,Qxd4,a5,a3,Bd6,Bb5,c5,Qd5,Nf6,Bg5', 'Nxd5,Bxd8,Nxc3', 'https://lichess.org/training/BhXxf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bhZlO', 'Rapid', 'bagul_56', 1869, 'gvd', 1903, 'e4,Nc6,d4,e5,d5,Nce7,c4,Nf6,Nc3,Ng6,Nf3,Bc5,h3,O-O,Bd3,d6,O-O,a6,a3,Nh5,b4,Ba7,Be3,Nhf4,Bxa7,Rxa7,c5,Nxd3,Qxd3,Nf4,Qe3,f5,Ne2,Nxe2+,Qxe2,f4,Nd2,Rf6,f3,Rg6,Kh1,Qh4,Qf2,Rg3,Rfd1,Ra8,Qe2,Bd7,Nf1,Bxh3,gxh3,Qxh3+,Nh2,Rf8,Rg1,Rf6,Rg2,Rh6,Ra2,g5,Kg1,Rh4,Kh1,g4,Qf2,gxf3,Rxg3+,fxg3,Qxf3,gxh2', 'Rg2+,Qxg2+,Qxg2+', 'https://lichess.org/training/bhZlO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bi0LA', 'Bullet', 'shaariq', 1728, 'mpopovic', 1763, 'e4,Nf6,e5,Nd5,d4,d6,c4,Nb6,f4,Nc6,Nf3,Bf5,d5,Nb4,Na3,a5,Be3,c5,Nh4,Be4,e6,fxe6,f5,exf5,Qh5+,g6,Nxg6,Kd7,Nxh8,Kc7,Nf7,Qe8,O-O-O,Qa4,Be2', 'Nxa2+,Kd2,Qb4#', 'https://lichess.org/training/bi0LA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bi1kh', 'Rapid', 'santiagop', 1791, 'y_alrooby', 1808, 'e4,e6,b3,d5,Bb2,dxe4,Qg4,e5,Qxe4,Nd7,d4,Ngf6,Qd3,e4,Qd2,Bd6,Na3,c6,g3,O-O,O-O-O,Re8,Nc4,Bc7,f4,exf3,Nxf3,b5,Ne3,a5,h4,a4,g4,axb3,axb3,Ne4,Qg2,Qe7,Nf5,Qb4,Rd3,c5,dxc5,Ndxc5,Rd4,Qa5,Nxg7,Rd8,Rxd8+,Bxd8,Nd2,Nxd2,Qxd2,Qc7,Ne8,Nxb3+,Kd1,Qg3,Qh6,Qf3+,Be2,Qd5+,Ke1,Ba5+,c3,Qe5', 'Nf6+,Qxf6,Qxf6', 'https://lichess.org/training/Bi1kh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bI2bU', 'Rapid', 'ouarzazate', 1824, 'ssimonyancz', 1805, 'e4,d6,d4,Nf6,Nc3,g6,f4,Bg7,Nf3,O-O,Bc4,Nc6,h3,Na5,Be2,c5,d5,Nh5,Qd3,Ng3,Rg1,b5,Nxb5,Ba6,a4,c4,Qd2,Nxe4,Qe3,Ng3,c3,Nb3,Rb1,Nxe2,Qxe2,Nxc1,Rxc1,Bxb5,axb5,Qc7,Qc2,e5,Kf2,Qb6+,Kg3,Qxb5,fxe5,dxe5,Rcd1,f5,Kh2,Rad8,d6,Qc6,Qd2,e4,Ng5,Rf6,d7,Bf8,Qd5+,Qxd5,Rxd5,Be7,Rgd1,h6,Nxe4,fxe4,R5d4,g5,Rxe4,Bd6+,Kh1,Rxd7,Rxc4,Rf4,Rc6,Rf6,b4,Kf7,c4,Ke7,c5,Bg3', 'Rxd7+,Kxd7,Rxf6', 'https://lichess.org/training/bI2bU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bI2xW', 'Rapid', 'Mcnuggets910', 1682, 'diasco2345', 1649, 'd4,c6,e4,d5,Nc3,Nf6,e5,Ng4,h3,h5,hxg4,Bxg4,f3,Bf5,g4,Bd7,Bd3,e6,a3,h4,Nh3,c5,Bg5,Be7,Bxe7,Qxe7,dxc5,Qxc5,Qd2,Nc6,O-O-O,d4,Na4,Qxe5,f4,Qd5,b3,e5,fxe5,Nxe5,Rhe1,Bxg4,Nf4,Qd6,Qb4,Qxb4,axb4,Bxd1', 'Rxe5+,Kf8,Kxd1', 'https://lichess.org/training/bI2xW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BI4lE', 'Blitz', 'Spiderwebb', 1793, 'PicsKid', 1802, 'd4,e6,c4,Nf6,Nc3,d5,Bg5,c6,Nf3,Bb4,e3,O-O,Bd3,a5,a3,Be7,O-O,dxc4,Bxc4,b5,Bd3,Bb7,Bc2,b4,axb4,axb4,Na4,Nbd7,Qd3,g6,Ne5,Ba6,Qb3,Bxf1,Kxf1,Rb8,Bxf6,Nxf6,Nc5,Bxc5,dxc5,Qc7,f4,Nd5,g3,Rb5,e4,Nf6,Qc4,Rfb8,Rd1,Kg7,g4,b3,Bb1,Rb4,Qc3,Nxe4,Bxe4,Rxe4,Rd7,Rxf4+,Kg1,Qc8,Nd3+,Rf6,g5,Qxd7,Qxf6+,Kg8,Nf2,Ra8,Ng4,Ra1+,Kg2,Qd2+,Kh3,Qd3+,Kh4,Rh1', 'Nh6+,Kf8,Qxf7#', 'https://lichess.org/training/BI4lE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bI4zp', 'Rapid', 'mohammad_mahdi', 1604, 'gameofspam', 1684, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Nc3,Nf6,Bg5,Bb4,Qd2,h6,Bh4,Bxc3,Qxc3,g5,Qxe5+,Kf8,Qd6+,Kg7,Bg3,Nxe4,Qe5+,Nf6,Bd3', 'Re8,O-O,Rxe5', 'https://lichess.org/training/bI4zp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bI7FF', 'Rapid', 'illubillu', 1666, 'mansouri95', 1956, 'd4,f5,c4,d5,Nc3,e6,e3,c6,Nf3,Nd7,Bd3,Bb4,O-O,g6,a3,Ba5,b4,Bb6,Na4,Bc7,Bb2,g5,Ne5,Nxe5,dxe5,g4,Bc2,h5,cxd5,cxd5,Nc5,Ne7,Ba4+,Nc6,b5,b6,Na6,Nxe5,Nxc7+,Qxc7,Rc1,Qd6,Qd4,Nf7,Rc6,Qe7,Rfc1,Qd8,Qc3,Bd7,Rd6,Rc8,Qxc8,Nxd6,Qxd8+,Kxd8,Bxh8,Ne4,Kf1,Nc5,Ke2,Nxa4,Bf6+,Ke8,Rc7,Bxb5+,Kd2,Nc5,Re7+,Kf8,Rxa7', 'Ne4+,Ke1,Nxf6', 'https://lichess.org/training/bI7FF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bI7lp', 'Rapid', 'FM Din-don-dan', 1908, 'ALEJO_CHESS_SANTAFE', 1920, 'e4,d5,exd5,Qxd5,Nc3,Qa5,b4,Qxb4,Rb1,Qd6,Nf3,c6,d4,Nf6,Ne5,e6,Bf4,Qa3,Rb3,Qa5,Nc4,Qd8,Be2,Be7,g4,O-O,Bg3,Nbd7,g5,Nd5,Ne4,Bxg5,Rg1,b5,Ncd6,Be7,Bh5,f5,Nc5,Nxc5,dxc5,Qa5+,Kf1,f4,Rf3,fxg3,Rxf8+,Bxf8,Bf7+,Kh8,Rxg3,Bxd6,cxd6,Qd8,Qh5,Qxd6', 'Qxh7+,Kxh7,Rh3#', 'https://lichess.org/training/bI7lp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bi7x7', 'Rapid', 'Momot', 1868, 'MIKOLA700', 1848, 'e4,e5,Bc4,Nf6,Nf3,d5,exd5,Nxd5,Nxe5,Qe7,O-O,Be6,Qf3,c6,d3,Nd7,Nxd7,Qxd7,Bd2,O-O-O,Re1,Bd6,h3,Rhe8,a4,Nb4,Bxe6,Rxe6,Na3,Rde8,Bxb4,Bxb4,Rxe6,Qxe6,Nc4,g6,a5,f5,c3,Bc5,d4,Qxc4,dxc5,Qxc5,b4,Qc4,Rd1,Qe2,Qd3,Qxd3,Rxd3,Re2,g3,Rb2,Kg2,c5,bxc5,Rb5,Rd5,Rxa5,Re5,Kd7', 'c6+,Kxc6,Rxa5', 'https://lichess.org/training/bi7x7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bi8AI', 'Blitz', 'Astronger_start', 2120, 'FrankVH', 2224, 'e4,d6,Nf3,Nf6,Nc3,Bg4,h3,Bh5,g4,Bg6,d3,e6,Be3,c6,Bg2,d5,e5,Nfd7,h4,h5,Ng5,hxg4,d4,Bh5,Qd2,a6,O-O-O,Be7,Rdg1,c5,f4,Nc6,f5,cxd4,Bxd4,Nxd4,Qxd4,Bxg5+,hxg5,Qxg5+,Kb1,Qxf5,Re1,b5,Rhf1,Qg5,Nxd5,exd5,Qxd5,Rd8,Qd6,Qe7,Qxa6,O-O,Rh1,Bg6,Be4,Bxe4,Rxe4,Nxe5,Qxb5,Rfe8,Qe2,Qg5,Qh2,Ng6', 'Qh7+,Kf8,Qh8+,Nxh8,Rxh8#', 'https://lichess.org/training/bi8AI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bI9FQ', 'Bullet', 'yantowaleng', 1637, 'Diamond91350', 1632, 'e4,e5,Nf3,Nc6,b3,Bc5,Bb2,d6,Bb5,Bg4,O-O,Ne7,a3,a6,Bxc6+,Nxc6,h3,Bxf3,Qxf3,O-O,Nc3,Bd4,Rab1,Bxc3,Bxc3,Qg5,Rfe1,b5,b4,f5,Qe3,f4,Qf3,h5,Kh2,Rf6,Re2,Raf8,Rg1,h4,Qg4,Qh6,Qf3,Rg6,d3,Rg5,Bd2,Kh7,Ree1,Nd4,Qd1,Rf6,c3,Ne6,c4,bxc4,dxc4,Nd4,f3,Rfg6,Bc3,Ne6,b5,axb5,cxb5,Rg3,a4,R6g5,a5,Qg6,a6,Rxg2+,Kh1,R5g3,Rxg2,Rxg2,Rg1,Rxg1+,Qxg1,Qe8,a7,Qa8,b6,cxb6,Qxb6,Ng5', 'Qb8,Qc6,a8=Q,Qxa8,Qxa8', 'https://lichess.org/training/bI9FQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BI9uI', 'Rapid', 'Lithiumm', 1814, 'librelon', 1758, 'd4,e6,Nc3,d5,a3,c5,Bf4,Nf6,e3,Nc6,Nb5,Kd7,Nf3,a6,Nc3,Bd6,Ne5+,Bxe5,Bxe5,Nxe5,dxe5,Ne8,Ne4,b6,c3,Bb7,Ng3,Ke7,Qg4,Kf8,Bd3,g6,Qh3,Ng7,O-O,Nf5,Nxf5,exf5,Qh6+,Ke7,c4,Ke6,cxd5+,Bxd5,f4,Bxg2,Bc4+,Ke7,Rfd1,Qc7,Kxg2,Rad8,Qg7,Qc6+,Kg3,Rhf8,Qf6+,Qxf6,exf6+,Kxf6,h4,b5,Bd5,Rd6,Bb7,Rb6,Bf3,Re8,Kf2,Kg7,Rg1,Rbe6,Rae1,Rd8,Re2,Rd3,h5,Red6,Rh1,c4,h6+,Kf6,Rc1,Rd2,Rxd2,Rxd2+,Ke1,Rxb2,Bb7,a5,Ba6,Rb3,a4,Rxe3+,Kf2,Rb3,axb5,c3,Ke2,a4,Kd3,a3,Rxc3', 'a2,Rxb3,a1=Q', 'https://lichess.org/training/BI9uI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BI9yD', 'Rapid', 'RM134', 1921, 'kassem74', 1860, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Bc4,g6,h3,Bg7,Be3,O-O,a3,Bd7,O-O,Ne5,Ba2,Qc7,Qd2,Nc4,Bxc4,Qxc4,Rad1,Rac8,Bh6,Bc6,Nxc6,Qxc6,Bxg7,Kxg7,Qd4,a6,Rd2,Qc4,f3,Qxd4+,Rxd4,Nh5,Rf2,b5,Nd5,e6,Ne3,Rc6,Rfd2,Rd8,Kf2,Nf4,h4,e5,Rb4,d5,g3,d4,gxf4,dxe3+,Kxe3,exf4+,Ke2,Rxd2+,Kxd2,Rc5,e5,Rxe5,Rxf4,f5,c4,Kh6,b4,g5,hxg5+,Kxg5,Rd4,bxc4', 'f4+,Kf6,fxe5+', 'https://lichess.org/training/BI9yD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('biaAS', 'Blitz', 'dicapriochess2021', 2411, 'FM P--H--I--L--O--U', 2376, 'Nf3,c5,g3,Nc6,d4,g6,d5,Nb8,Bg2,Bg7,O-O,d6,e4,f5,c4,fxe4,Ng5,Nf6,Nc3,O-O,Qe2,h6,Ngxe4,Bf5,Nxf6+,exf6,g4,Bc8,f4,f5,g5,h5,Be3,Re8,Qd3', 'Rxe3,Qxe3,Bd4', 'https://lichess.org/training/biaAS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BIbwF', 'Blitz', 'eaten_by_a_grue', 1619, 'RonaldWeasley77', 1587, 'c4,Nf6,g3,c5,Bg2,Nc6,Nc3,d6,Nf3,g6,O-O,Bg7,d4,cxd4,Nxd4,O-O,Nxc6,bxc6,Bxc6,Rb8,Nb5,a6,Nd4,Qc7,Qd3,e5,Bg2,exd4,Qxd4,Nh5,Qd3,Bxb2,Bxb2,Rxb2,a4,Re8,e3,Bb7,Bxb7,Qxb7,Qxd6,Rxe3', 'Qd8+,Kg7,Qd4+,Nf6,Qxe3', 'https://lichess.org/training/BIbwF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BIccO', 'Rapid', 'Sir_Doad', 1526, 'vpopudai', 1587, 'd4,f5,Bf4,Nf6,Nd2,g6,h3,Bg7,Ngf3,c6,c3,d6,Qc2,O-O,e4,Re8,e5,dxe5,Nxe5,Qd6,Bc4+,e6,g3,Nd5,Bxd5,exd5,Nf3,Nd7,O-O-O,Nxe5,dxe5,Bxe5,Bxe5,Rxe5,Rhe1,Rxe1,Rxe1,Be6,Qe2,Re8,Nd4,Bf7,Qd2,Rxe1+,Qxe1,Kg7,f4,h6,h4,h5,Nf3,c5,Ng5,d4,cxd4,cxd4,Kb1,d3,Qd2,Bc4,b3,Ba6,a4,Qa3,Qc3+,Kf8,Qf6+,Ke8', 'Qf7+,Kd8,Ne6+,Kc8,Qc7#', 'https://lichess.org/training/BIccO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('biCyu', 'Rapid', 'arunkk', 1653, 'narayananvbaradwaj', 1700, 'd4,Nf6,c3,e6,e3,c5,Nf3,cxd4,Qxd4,Nc6,Qa4,a6,Nbd2,Be7,Bd3,O-O,Ne4,Nxe4,Qxe4,g6,h4,d5,Qa4,Rb8,h5,b5,Qc2,e5,Bxg6,fxg6,hxg6,Bf5,gxh7+,Kh8,Qe2,Rf7,Bd2,Rxh7,O-O-O,e4,Nd4,Nxd4,exd4,Bg5,Rxh7+,Bxh7,f4,exf3,Qe5+,Bf6,Qg3,fxg2,Qxg2,Qd6,Rh1,Rb7,Qh3,Rg7,Qh5,b4,Bh6,Re7,Bf8,Qf4+,Kd1,bxc3,bxc3,Rc7,Bd6,Qxd6,Qe8+,Kg7,Rg1+,Kh6,Qe3+,Kh5,Qh3+,Bh4', 'Qg4+,Kh6,Qxh4#', 'https://lichess.org/training/biCyu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BIdMX', 'Rapid', 'Trauko8', 2004, 'sergiosalahramos', 1820, 'g3,Nf6,c4,c5,b3,g6,Bb2,Bg7,Bg2,Nc6,Nf3,O-O,O-O,d6,a3,Qc7,d4,cxd4,Nxd4,Nxd4,Bxd4,Nd7,Nc3,Bxd4,Qxd4,Qc5,Qe4,Qe5,Qc2,a6,Rad1,e6,Kh1,Rb8,b4,b5,f4,Qe3,cxb5,axb5,Rxd6,Nf6,Rd3,Qb6,e4,Bb7,e5,Bxg2+,Kxg2,Qb7+,Kh3,Rbc8,Qd2,Nh5,g4,Ng7,Rd7', 'Rxc3+,Qxc3,Qxd7', 'https://lichess.org/training/BIdMX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BIEtJ', 'Blitz', 'Jack_Sparrow_2', 2145, 'FM ZuchBolt', 2316, 'e4,e5,Nc3,Nf6,f4,d5,fxe5,Nxe4,Nf3,Nc6,Bb5,Bg4,h3,Bh5,Qe2,Ng3,Bxc6+,bxc6,Qa6,Qd7,Rg1,Bb4', 'Qb7,O-O,Qxb4', 'https://lichess.org/training/BIEtJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BIfib', 'Rapid', 'Blutleuchte', 1689, 'idrpughsmurf', 1675, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,Nf3,h6,Bh4,Nbd7,e3,O-O,Qc2,b6,Bd3,dxc4,Bxc4,Bb7,Be2,Nd5,Bxe7,Qxe7,a3,Nxc3,Qxc3,Qd6,O-O-O,Rac8,Kb1,c5,Qd3,Nf6,Rd2,Be4,Qxe4,Nxe4,Rc2,cxd4,Nxd4,Rxc2,Nxc2,Nxf2,Rf1,Ne4,Nd4,Qxh2,g4,Ng3,Re1,Nxe2,Rxe2,Qg1+,Ka2,Qxg4,Rc2,e5,Nc6,Qe6+,Kb1,Qf5,Ne7+,Kh8,Nxf5,a5,Rc7,g5,Nxh6,Kg7,Ng4,Re8,Rb7,Re6,Rc7,Kg6,e4,Kh5,Ne3,f6,Kc1,g4,Kd2,Kg5,Rg7+,Kh5,Rxg4,Rd6+,Ke2,Rc6,Rg1,b5,Rf1,Kg6,Kd3,Rd6+,Nd5,Kg5,Ke3,Rc6,Rf5+,Kh4,Nxf6,Rc2,Rh5+,Kg3,Rg5+,Kh3,Kf3,Kh2,Ng4+,Kh1,Rh5+,Kg1,Ne3,Rxb2,Rg5+,Kh1,Nf1,b4,a4,b3,Rh5+,Kg1,Ne3', 'Rf2+,Kg4,b2', 'https://lichess.org/training/BIfib');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('biGBs', 'Rapid', 'MagnisCharlestin', 1718, 'sambajazz', 1744, 'e4,e6,d4,d5,Nd2,Nf6,e5,Ne4,Nxe4,dxe4,Bb5+,c6,Ba4,b5,Bb3,Be7,Ne2,f5,exf6,Bxf6,c3,c5,dxc5,Qxd1+,Kxd1,O-O,Ng3,Rd8+,Kc2,Bb7,Re1,Kf7,Nxe4,Bd5,Nxf6,gxf6,Bxd5,Rxd5,b4,Nc6,Be3,a5,a3,Ne5,Rad1,Rxd1,Rxd1,axb4,axb4,Ra2+,Kb1,Re2,Rd2,Re1+,Kc2,Nc4,Rd7+,Kg6,c6,Ra1,c7,Ra8,Rd8,Ra2+,Kb3', 'Rb2#', 'https://lichess.org/training/biGBs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('biGLQ', 'Classical', 'kartoffeln777', 1944, 'Virat-pathak', 1905, 'e4,e5,Nf3,Nc6,d4,exd4,Bc4,Bb4+,c3,dxc3,bxc3,Ba5,Qb3,Qe7,O-O,Nf6,Bg5,O-O,Nbd2,h6,Bh4,Bb6,Rae1,Na5,Qc2,Nxc4,Nxc4,d6,e5,dxe5,Nfxe5,Be6,Ng4,g5,Nxh6+,Kg7,Bxg5,Rh8,Ng4,Bxc4,Bxf6+,Qxf6,Nxf6,Kxf6,Re4,Bxf1,Kxf1,Rxh2,Rf4+,Kg7,Qf5,Rh1+,Ke2,Re8+,Kf3,Re7,Qg5+,Kf8,Rg4,Rd7,Qg8+,Ke7,Re4+,Kd6,Qf8+,Kc6,Qe8,Rd1,Re7,Rd3+,Ke2,Rd2+,Ke1,Bxf2+,Kf1,Bc5,Rxf7,b5,g4,a5,g5,Rd1+,Kg2,Rd2+,Kf3', 'Rf2+,Kg4,Rxf7', 'https://lichess.org/training/biGLQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('biH1s', 'Rapid', 'vasnikmont', 1929, 'SenNiye2020', 2141, 'd4,d5,c4,dxc4,e3,e6,Bxc4,Bb4+,Nc3,Nf6,Nf3,c5,O-O,cxd4,exd4,O-O,Bg5,Nc6,a3,Bxc3,bxc3,Na5,Ba2,Qb6,Bxf6,gxf6,Qd2,Nb3,Bxb3,Qxb3,Rfb1,Qd5,Qd3,Qh5,Rb5,Qg6,Qe3,b6,Nh4,Qg7,Rh5,Bb7,Re1,Rae8,Qh3,f5,f4,Kh8,Re3,Qg4,Qxg4,fxg4,f5,exf5,Rxe8,Rxe8,Rxf5,Ba6,Rxf7', 'Re1+,Kf2,Rf1+,Kg3,Rxf7', 'https://lichess.org/training/biH1s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('biiiD', 'Rapid', 'madgav', 1622, 'xo89', 1651, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,Bc5,Bg5,h6,Bxf6,Qxf6,Nbd2,O-O,a3,d6,b4,Bb6,Bd5,Ne7,Bc4,Be6,Bxe6,fxe6,c4,Rad8,O-O,d5,exd5,c6,Ne4,Qg6,Nxe5,Qf5,Nf3,exd5,cxd5,Rxd5,a4,Rfd8,Ra3', 'Qxe4,dxe4,Rxd1', 'https://lichess.org/training/biiiD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BiJAL', 'Rapid', 'sssix', 1638, 'Ardbegformore', 1672, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,Nc6,Bb5,Bg4,Be2,O-O-O,d3,Bxf3,Bxf3,Qe6+,Be3,Nd4,Bg4,f5,Bh3,g5,O-O', 'g4,Bxg4,fxg4,Bxd4,Rxd4', 'https://lichess.org/training/BiJAL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BijaQ', 'Blitz', 'br_teixeira', 1667, 'CM EnDsOnLiMaRR', 2219, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,Nf3,Ne7,Bg5,Nd7,Nc3,Qb6,Rb1,h6,Bh4,Nf5,O-O,g5,Bg3,g4,Nh4,Nxd4,Kh1,Be7,f4,gxf3,Nxf3,Nxf3,Rxf3,O-O-O,a3,f5,exf6,Nxf6,Qg6,Rdf8,Rbf1,Qxb2,Be5,Rhg8,Qd3,Ng4,Rxf8+', 'Rxf8,Rxf8+,Bxf8', 'https://lichess.org/training/BijaQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bil3v', 'Blitz', 'SS85', 1706, 'AslambekIakhiev', 1695, 'e4,c5,Nf3,d6,Bc4,e6,Nc3,Nf6,d3,Be7,Bg5,O-O,Qd2,Qc7,Ne2,a6,a4,Bd7,h4,Nc6,h5,Na5,h6,g6,Ng3,Nxc4,dxc4,b5,b3,bxa4,bxa4,Rfb8,O-O,Bc6,Rfe1,e5,Bxf6,Bxf6,Nf1,Rb4,Ne3,Bxe4,Nd5,Bxd5,Qxd5,Rab8,Red1,e4,Ng5,Bxa1,Rxa1,Rb1+,Rxb1,Rxb1+,Kh2,e3,fxe3,Re1', 'Qa8+,Qd8,Qxd8#', 'https://lichess.org/training/bil3v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BiLa7', 'Rapid', 'PetrSha', 1868, 'gillyboy6', 1851, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,a6,Ng5,d5,exd5,Na5,c3,h6,Nf3,Bg4,h3,Bxf3,Qxf3,Nxc4,dxc4,e4,Qf5,Bd6,O-O,O-O,Re1', 'g6,Qf4,Bxf4', 'https://lichess.org/training/BiLa7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bImBV', 'Rapid', 'daoudrebahi', 2072, 'sherifosman111', 2017, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bd3,g6,O-O,Bg7,Nc3,a6,a4,O-O,h3,Bd7,Be3,Nc6,Nde2,Na7,f3,b5,axb5,Nxb5,Nxb5,Bxb5,Bxb5,axb5,Qd2,Nd7,Bh6,Rxa1,Rxa1,Bxb2,Rb1,Bg7,Rxb5,Qc8,Bxg7,Kxg7,Nf4,Qc6,Ra5,Rc8,Nd5,Kf8,Qh6+,Ke8,Qxh7,e6,Qh8+,Nf8,Nf6+,Ke7,Ng4', 'Qb6+,Kh2,Qxa5', 'https://lichess.org/training/bImBV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BInvU', 'Classical', 'andacassian', 1611, 'Solrakj23BR', 1812, 'd4,Nf6,c4,g6,Nc3,Bg7,Nf3,d5,e3,O-O,Bd3,c6,O-O,Nbd7,cxd5,Nxd5,Nxd5,cxd5,b3,Nb6,Bb2,Bg4,h3,Bd7,Rc1,Rc8,Re1,Re8,Ne5,Be6,Qe2,Rxc1,Rxc1,Bc8,Bb5,Nd7,Nxd7,Bxd7,Bxd7,Qxd7,Qf3,Rc8,Rxc8+,Qxc8,Qxd5,Qc2,Ba3,Qb1+,Kh2,Qxa2,Bxe7,h5,Kg3,Qa6,Qc4,Qb6,Bc5,Qc7+,f4,b6,Ba3,Qb8,d5,g5,d6,h4+,Kg4,b5,Qc7,f5+,Kxg5,Qf8,d7', 'Qf6+,Kh5,Qh6#', 'https://lichess.org/training/BInvU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bIO3A', 'Rapid', 'Remkos', 1778, 'jimi666', 1791, 'd4,d5,Bf4,Nf6,e3,Bf5,Nc3,Nc6,Nf3,e6,Nb5,Bd6,Bxd6,cxd6,c4,O-O,Be2,Nb4,O-O,Ne4,a3,Nc6,Bd3,a6,Nc3,dxc4', 'Bxe4,Bxe4,Nxe4', 'https://lichess.org/training/bIO3A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bIoDf', 'Rapid', 'OJJ', 2069, 'GRUJOsah', 2045, 'd4,d5,c4,dxc4,Nf3,e6,e3,b5,a4,c6,Bd2,Bd7,Be2,Nf6,O-O,Ne4,Nc3,Nxd2,Nxd2,a6,b3,b4,Nce4,c3,Nc4,a5,Ned6+,Bxd6,Nxd6+,Kf8,e4,Qc7,e5,g6,Bd3,Kg7,Qf3,Rf8,Qf6+,Kg8,Rfe1,Qd8,Qf3,Na6,Bxa6,Rxa6,Ne4,Kg7,Nf6,h6,Re4,c5,Qd3,Ra7,dxc5,Bc6,Rd4,Qc7,Rd6,Be8,Qc4,Ra8,Qf4,Qxc5,Ne4,Qc7,Qf6+,Kg8,Rd3,Bc6,Rh3,Qd8', 'Rxh6,Qxf6,Nxf6+,Kg7,Rh7#', 'https://lichess.org/training/bIoDf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bioSm', 'Classical', 'Eremin_M_A', 1896, 'KorshunA', 1740, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,d3,c6,Bc4,Be7,Qh5,g6,Qf3,d5,exd5,cxd5,Bxd5,Nf6,Bxb7,Qa5+,Bd2,Qe5+,Qe2', 'Qxe2+,Kxe2,Bxb7', 'https://lichess.org/training/bioSm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('biqzr', 'Rapid', 'MASSAIA', 1917, 'BigBoss77', 1928, 'c4,Nf6,Nf3,g6,g3,Bg7,Bg2,e6,O-O,O-O,d4,d5,c5,c6,Nc3,Nbd7,b4,b5,a4,a6,axb5,Ne4,Nxe4,dxe4,Nd2,Bxd4,e3,Bc3,Ba3,Bxa1,Qxa1,cxb5,Nxe4,Bb7,Nf6+,Nxf6,Bxb7,Ra7,Rd1,Qc7', 'Qxf6,Rxb7,Bb2,e5,Bxe5,Qxe5,Qxe5', 'https://lichess.org/training/biqzr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bIrqr', 'Rapid', 'Felipe_Forero117', 1651, 'gagi59', 1688, 'e4,e5,Nf3,d6,h3,c6,Nc3,Nf6,Bc4,Be7,d3,O-O,Be3,b5,Bb3,a5,a3,a4,Ba2,Ba6,d4,exd4,Bxd4,c5,Be3,b4,Nd5,Nxe4,Nxe7+,Qxe7,axb4,cxb4,Bd5,Bb7,Bxb7,Qxb7,O-O,b3,cxb3,Qxb3', 'Qxb3,axb3,Rxa8', 'https://lichess.org/training/bIrqr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('biRu7', 'Blitz', 'Fissar', 1707, 'mustafa0909', 1694, 'e4,c6,d4,d5,e5,e6,Ne2,c5,c3,Nc6,Ng3,cxd4,cxd4,a6,Be3,Bb4+,Nc3,Nge7,a3,Ba5,Be2,Bd7,O-O,O-O,f4,f6,Bd3,f5,Qh5,Ng6,Nxd5,exd5,Nxf5,Bxf5,Bxf5,Qh4,Qxh4,Nxh4,Be6+,Kh8,Bxd5,Bb6,Bxc6,bxc6,g3,Nf5,Bf2,Bxd4,Bxd4,Nxd4,Rae1,Rab8,e6,Rfe8,e7,Rxb2,f5,Kg8,f6,gxf6,Rxf6,c5,Re4,Rb7', 'Rg4+,Kh8,Rf8+,Rxf8,exf8=Q#', 'https://lichess.org/training/biRu7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bisTb', 'Rapid', 'tanakas1973', 1889, 'nastianastia123', 1941, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,Be7,Bg5,d6,h3,O-O,O-O,Na5,Nc3,Nxb3,axb3,c5,Nxb5,Bxh3,gxh3,axb5,Bxf6,Bxf6,Nh2,Bh4,Qg4,Bg5', 'Rxa8,Qxa8,Qxg5', 'https://lichess.org/training/bisTb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('biTEI', 'Rapid', 'hart21', 1788, 'Mohamadazaitalab', 1813, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,Qf6,f3,bxc6,Nc3,Nh6,Na4,Bd6,Be3,O-O,Bc4,Be5,c3,d5,Bd3,dxe4,Bxe4,Rd8,Qc2,Bf5,Bxh6,Qh4+,g3,Bxg3+,Ke2,Bxe4,Qxe4,Re8,hxg3,Rxe4+,fxe4,Qxe4+,Be3,Qxa4,Kf3,Re8,Rhe1,Qe4+,Kf2,Qc2+,Re2,Qf5+,Kg2,Qd5+,Kf2,h5,Rae1,h4,gxh4,Qf5+,Kg3,Qd3,Kf2,Qf5+,Kg3,Qg6+,Kf2,Qg4,Bxa7,Qxh4+,Kf3,Qh5+,Kf2,Rxe2+,Rxe2,Qf5+,Kg3,g5,Be3,g4,Bf4,Qd3+,Re3,Qd7,a4,c5,a5,Qc8,Re5,Qf8,Rg5+,Kh7,Rh5+,Kg6,Rg5+,Kf6,Kxg4,Qc8+,Kg3,Qa6,Rxc5,Qd3+,Kf2,Qc2+,Kf3,Qd1+,Ke4,Qe2+,Kd4,Qf2+,Be3,Qxb2,Rxc7,Qa2,Ra7,Qa4+,Kc5,Qa3+,Kb6,Qxc3,Bc5,Qb3+,Kc6,Qf3+,Kb6,Kg6,a6,Qb3+,Kc6,f5,Rb7,Qf3+,Kb5,Qb3+,Bb4,Qd5+,Bc5,f4,Kb6,Qe6+,Ka5,Qa2+,Kb5,f3,a7,f2,Rb6+,Kf5,Bxf2,Qxf2,a8=Q,Qb2+,Kc6', 'Qg2+,Kc5,Qxa8', 'https://lichess.org/training/biTEI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Biutb', 'Rapid', 'Diimass', 1631, 'Don_Quijote', 1646, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qc3,d6,Bb5,Bd7,Bxc6,bxc6,Nf3,Nf6,e5,dxe5,Nxe5,Nd5,Qc4,Qa5+,Nc3,Nxc3,Qxf7+,Kd8,Nxd7,Kxd7,Bd2,Qe5+,Kf1,Ne4,Bf4,Qb5+', 'c4,Nd2+,Bxd2', 'https://lichess.org/training/Biutb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bivH3', 'Rapid', 'shibione66', 1747, 'hdg453kdj', 1758, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,a3,b5,Ba2,Be7,O-O,O-O,f4,e5,fxe5,dxe5,Nf5,Bxf5,exf5,Qb6+,Kh1,Nc6,Nd5,Nxd5,Bxd5,Rad8,Qf3,Nd4,Qe4,Qd6,Ba2,Qf6,Be3,Bc5,c3,Nc2,Bxc5,Nxa1,Bxf8,Kxf8,Rxa1,Rd2,Qa8+,Ke7,Qe4,Qd6,Qe1,Rxb2,Rd1,Qf6,Bb1,g6,fxg6,fxg6,Qe3,Kf8,Qc5+,Kg7,Be4,Qg5,Qc6,Rd2,Rg1,Qe3,Bf3,Rc2,Qd7+,Kh6,Qh3+,Kg7,Qd7+,Kf6,h3,Qxc3,Qd6+,Kg5,Qxa6,Qc4,Qb7,Rc3,Qe7+,Kh6,Qxe5,Rxa3,Kh2,b4,Qb2,Ra2,Qb1,b3,Rc1,Qd4,Qxb3', 'Qf4+,Kg1,Qxc1+', 'https://lichess.org/training/bivH3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('biy81', 'Rapid', 'JohnShepard', 2035, 'khurshid123', 2025, 'e4,d5,exd5,Nf6,d4,Bg4,Be2,Bxe2,Nxe2,Nxd5,c4,Nf6,Nbc3,e6,O-O,Nc6,Bg5,Be7,Qd2,O-O,Rad1,a6,a3,Na5,Qd3,Qd7,b4,Nc6,Bxf6,Bxf6,Ne4,Be7,N2c3,Rad8,d5,Ne5,Qe2,exd5,Nxd5,Qe6,f4,c6,Nxe7+,Qxe7,fxe5,Rxd1,Rxd1,Qxe5,Re1,Re8,Ng3', 'Qd4+,Kf1,Rxe2', 'https://lichess.org/training/biy81');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BIY8w', 'Classical', 'sergej78', 1859, 'cartem', 1896, 'e4,c5,Nf3,Nc6,Bc4,d6,Nc3,g6,O-O,Bg7,Nd5,e6,Re1,exd5,exd5+,Nce7,d4,cxd4,Nxd4,Bd7,Bf4,Qc7,Nb5,Qxc4', 'Nxd6+,Kf8,Nxc4', 'https://lichess.org/training/BIY8w');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BizbU', 'Rapid', 'KasFisCar', 2264, 'Florin6', 2310, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bg5,e6,f4,h6,Bh4,Qb6,Qd2,Qxb2,Rb1,Qa3,Bxf6,gxf6,Be2,Qc5,Na4,Qc7,Nb6,Ra7,O-O,Nc6,Qc3,Be7,f5,Bd7,fxe6,fxe6,Bh5+,Kd8,Nxd7,Kxd7,Bg4,Nxd4,Qxd4,Qc5,Qxc5,dxc5,Rb6,h5,Bh3,c4,Rxe6,Kd8,Rd1+,Ke8,e5,fxe5,Rxe5,b5,Bf5,Kf7,Rf1,Bf6,Be4,Kg7,Ref5,Rf7,Kh1,Rh6,Bd5,Rd7,h3,Re7,R5f3,h4,Rf4,Re2,Rg4+,Rg6,Rgf4,Re5,Be4,Rh6,Bb7,a5,Be4,b4,Bf5,c3,Rg4+,Kf7,Bd3,Ke7,Rc4,Kd6,Rd1,Rc5', 'Be4+,Ke5,Rxc5+', 'https://lichess.org/training/BizbU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bIZqO', 'Rapid', 'e_shere', 1953, 'Abacs', 1990, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bxd3,Qxd3,e6,Nf3,a6,O-O,c5,c3,Nc6,Be3,b6,Nbd2,c4,Qc2,Nge7,h3,Nf5,Nh2,Be7,g4,Nxe3,fxe3,Bg5,Rf3,O-O,Raf1,b5,Qd1,b4,Qe1,bxc3,bxc3,Bh4,Qe2,Qa5,e4,Qxa2,exd5,exd5,Qe3,Rae8,Rf5,Qa3,Nhf3,Bd8,Ng5,f6,Qf3,Ne7,exf6,Nxf5,Qxd5+,Kh8,Nf7+,Rxf7,Qxf7,Rf8', 'fxg7+,Nxg7,Qxf8+,Qxf8,Rxf8#', 'https://lichess.org/training/bIZqO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bj09x', 'Rapid', 'fenerium000000', 1681, 'Dr_Goo', 1687, 'e4,e6,d4,d5,exd5,exd5,Qe2+,Be7,Nc3,Nf6,Bg5,O-O,Bxf6,Bxf6,Qd2,Nc6,O-O-O,Bg5,f4,Bh6,Be2,Qf6,g3,g5,Nxd5,Qd6,Ne3,gxf4,gxf4,Bxf4,Rf1,Qxd4', 'Qxd4,Nxd4,Rxf4,Nxe2+,Nxe2', 'https://lichess.org/training/Bj09x');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bj2eF', 'Classical', 'samjii', 1803, 'MichelBogaert', 1854, 'd4,Nf6,Nc3,c5,Be3,c4,Bg5,d5,Bxf6,exf6,e3,Bf5,Nge2,Bd6,a3,Bc7,h3,O-O,g4,Bg6,Bg2,Ba5,b4,cxb3,cxb3,Nc6,b4,Nxb4,axb4,Bxb4,O-O,f5,Nxd5,Bd6,f3,Bb8,Nef4,Bxf4,Nxf4,Re8,Qb3,Kh8,Nxg6+,fxg6,Rfe1,fxg4,hxg4,Qh4,Qxb7,a5,Kf1,Qg3,Qc6,Rac8,Qd5', 'Rc2,Re2,Rxe2,Kxe2,Qxg2+', 'https://lichess.org/training/Bj2eF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bj2Ke', 'Classical', 'ScorpionGG', 1763, 'Gebra', 1696, 'e4,e5,Qf3,Nf6,Bc4,Nc6,c3,Bc5,a3,O-O,b4,Bb6,d3,h6,h3,a6,g4,d6,g5,hxg5,Bxg5,Qe7,Ne2,Nd8,Ng3,Ne6,Bxf6,Qxf6,Qxf6,gxf6,Nh5,Ng5,Nxf6+,Kh8,Nd2,Kg7,Ng4,Bxg4,hxg4,Rh8,Ke2,Nh3,Raf1,Rh7,Kf3,Rah8,Kg3,Rh6,Nf3,c6,Rh2,Bd8,g5,Bxg5,Nxg5,Nxg5,Rxh6,Rxh6,f4,exf4+,Kxf4', 'Rf6+,Kxg5,Rxf1', 'https://lichess.org/training/bj2Ke');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bJ4cW', 'Rapid', 'Terminator00', 1952, 'supergenial', 1879, 'd4,Nf6,c4,g6,Nc3,d5,Bg5,dxc4,Bxf6,exf6,e4,Nc6,Nf3,Bg4,Bxc4,Bxf3,Qxf3,Nxd4,Qd1,Bc5,O-O,O-O,Nd5,c6,Nc3,Re8,Qg4,Nc2,Rac1,Qd2,h4,Re7,Rcd1,Qh6,a3,Bxf2+,Rxf2,Ne3,Qf4,Qxf4,Rxf4,Nxc4,Rxf6,Kg7,Rf2,Rae8,Rd4,Nb6,Re2,f5,h5,fxe4,Rexe4,Rxe4,Rxe4,Rxe4,Nxe4,gxh5,Nd6,Kf6,Nxb7,Nc4,Nd8,Nxb2,Nxc6,Nc4,Nxa7,Nxa3,Nc6,Kg6,Nd4,Nc4,Ne6,Ne5,Kh2,Ng4+,Kh3,Kf5,Ng7+,Kg5,Ne6+,Kf6,Nf4,Kg5,Ne6+,Kh6,Nf4,Kg7', 'Nxh5+,Kh6,Kxg4', 'https://lichess.org/training/bJ4cW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bJ5X2', 'Blitz', 'sohnski', 1601, 'Macang_Lada', 1526, 'e4,g6,Nf3,Bg7,Bc4,h6,d3,d6,Be3,Nc6,Qd2,Bg4,Qe2,Bxb2,h3,Bxf3,Qxf3,Nf6,O-O,Bxa1,c3,a6,d4,Bb2,Rd1,O-O,Bxh6,Re8,e5,Kh7,Qf4,dxe5,dxe5,Qxd1+,Kh2,Qxb1,exf6,Bxc3,Qh4,Rh8', 'Bg7+,Kg8,Qxh8#', 'https://lichess.org/training/bJ5X2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bj70s', 'Rapid', 'serhatoxuz', 1753, 'mayspb', 1885, 'e4,b6,d4,Bb7,Nc3,e6,Bd3,Bb4,Qe2,Nf6,Bg5,Bxc3+,bxc3,h6,Bxf6,Qxf6,Ba6,Nxa6,Nf3,d6,e5,dxe5,Nxe5,Bxg2,Qb5+,c6,Qxa6,Bxh1,O-O-O,Bd5,Qb7,Qe7', 'Qxa8+,Qd8,Qxd8+', 'https://lichess.org/training/Bj70s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bj7ow', 'Classical', 'Kinxi', 1782, 'miklerate', 1753, 'd4,Nf6,e3,d5,c4,Bg4,Nf3,e6,h3,Bh5,Be2,Bb4+,Bd2,Bxd2+,Qxd2,Ne4,Qb4,Qc8,Nc3,Nc6,Qa3,Nxc3,bxc3,Qd7,O-O,Qd6,c5,Qe7,c4,dxc4,Bxc4,Bxf3,gxf3,O-O,Kh2,Qf6,f4,Rfd8,Rg1,Ne7,Rg2,Nf5,Rag1,g6,Qb3,b6,cxb6,cxb6,d5,exd5,Bxd5,Rac8,Bb7,Rc7,Ba6,Rc3,Qb2,Qc6,Bb7,Qc7,Be4,Nxe3,fxe3', 'Rxe3,Qe5,Qxe5,fxe5,Rxe4', 'https://lichess.org/training/bj7ow');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BJ8hC', 'Rapid', 'Viktor_sh', 1979, 'Da44vid', 2019, 'e4,c6,d4,d5,e5,Bf5,Nf3,e6,a3,h6,h3,Ne7,g4,Bh7,c3,Ng6,Bd3,Be7,O-O,O-O,Kg2,c5,Be3,Qb6,b4,c4,Bxg6,Bxg6,a4,Nd7,a5,Qc7,Qd2,b6,a6,b5,h4,f5,gxf5,Bxf5,Bxh6,gxh6,Qxh6,Be4,Nd2,Bf5,Kh2,Nxe5,Nxe5,Bf6,Rg1+,Bg7,Qg5,Rf6,h5,Kf8,Rg3,Rh6,Rag1,Rxh5+,Qxh5,Bxe5,Qh6+,Ke8,Qh5+,Kd7,Nf3,Bxg3+,fxg3,Rg8', 'Qf7+,Kd6,Qxg8,Qh7+,Qxh7', 'https://lichess.org/training/BJ8hC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bj8oR', 'Rapid', 'Metempsychosis', 1765, 'mistakeman', 1801, 'c4,e5,Nc3,a6,e3,Nf6,g3,Bc5,d4,exd4,exd4,Bb4,Qe2+,Be7,Bg2,O-O,Nf3,Re8,O-O,Bd6,Ne5,Bxe5,dxe5,d6,Bg5,Rxe5,Bxf6,Qxf6,Ne4,Qg6,Qf3,Bf5,Nxd6,cxd6,Qxb7,Be4', 'Qc8+,Re8,Qxe8#', 'https://lichess.org/training/bj8oR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bj97X', 'Rapid', 'rosada', 1920, 'CommandosYNWA', 1639, 'c4,d5,cxd5,Qxd5,Nc3,Qd8,g3,Nc6,Bg2,Qd6,Nf3,e5,e3,Bg4,Qb3,O-O-O,O-O,Nf6,Nb5,Qd7,Nxe5,Nxe5', 'Nxa7+,Kb8,Qxb7#', 'https://lichess.org/training/Bj97X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bj9hh', 'Rapid', 'Xendojo', 1640, 'topspin15', 1637, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bb4+,c3,Bc5,Be3,Bb6,Nxc6,bxc6,Be2,Nf6,e5,Nd5,Qd3,Nxe3,fxe3,Qg5,O-O,Qxe3+,Qxe3,Bxe3+,Kh1,d5,Na3,O-O,Nc2,Bg5,Nb4,Bd7,Nd3,Rfe8,Nc5,Bc8,Ba6,Rxe5,Bb7,Rb8,Bxc8,Rxc8,Rae1,Rce8,Rxe5,Rxe5,h3,Be3,Nd3,Re7,Re1,Kf8,Nb4,c5', 'Nxd5,Re5,Nxe3', 'https://lichess.org/training/bj9hh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BJbGS', 'Classical', 'Rumburak987', 1652, 'lyubchenko', 1700, 'd4,d5,e3,Nc6,Bd3,e5,dxe5,Nxe5,Nf3,Nxd3+,Qxd3,Bg4,Qe2,Nf6,h3,Bh5,Qb5+,c6,Qxb7,Rc8,Qxa7,Bxf3,gxf3,Bd6,e4,dxe4,Rg1,O-O,Bh6,Nh5,Nc3,exf3,O-O-O,Qf6,Be3,Bf4,Bxf4,Nxf4,Ne4,Qh6,Kb1,Nxh3,Rh1,Qh4,Nd6,Rcd8,Nf5,Qg4,Ne7+,Kh8,Rhe1,Rxd1+,Rxd1,c5,Qxc5,Re8,a3,Qe6,Qc7,h6', 'Rd8,Qxe7,Qxe7', 'https://lichess.org/training/BJbGS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BjCnc', 'Classical', 'VinnieVars', 1669, 'sherlock7745', 1681, 'e4,e5,Nf3,Bc5,c3,Nc6,Bc4,Nf6,d4,exd4,cxd4,Bb6,O-O,Nxe4,Re1,d5,Bb5,O-O,Bxc6,bxc6,Ne5,Qf6,Be3,Re8,Qc2,Bd7,Nc3,Nxc3', 'Nxd7,Qd6,Nxb6', 'https://lichess.org/training/BjCnc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BJDXR', 'Blitz', 'joseandrade1971', 1790, 'TomasVilarasau', 1765, 'e4,e5,Nf3,d5,Nxe5,dxe4,Bc4,Qe7,d4,Be6,Na3,Nf6,Bg5,Bg4,Nxg4,h6,Bxf6,gxf6,O-O,Nc6,Re1,f5,Ne3,O-O-O,Nxf5,Qf6,Qg4,Nxd4,Qxe4,h5,Rad1,Bc5,c3,Rhe8,Qd3,Nxf5,Rxe8,Rxe8,Nb5,Ng7,Nd4,Ne6,Nxe6,fxe6,Bxe6+,Rxe6', 'Qd7+,Kb8,Qd8+,Qxd8,Rxd8#', 'https://lichess.org/training/BJDXR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bJfYw', 'Rapid', 'ahmedali888', 1948, 'protein44', 1938, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Bc4,Bg7,Bg5,O-O,Bb3,Bd7,Qd2,Nc6,h4,Bg4,f3,Bd7,Nde2,a5,a3,Rb8,O-O-O,b5,g4,b4,axb4,axb4,Nd5,Ne5,Rdf1,Qa5,Nxe7+,Kh8,Kd1,Qa1+,Nc1,Bb5,Qxd6,Qa6,Qxe5,Bxf1,Ba2,Nxg4,Qf4,Nf2+,Ke1,Nxh1,Bh6,Qf6,Bxg7+,Qxg7,Kxf1,Rbd8,Nd3,Rxd3,cxd3,Qxb2,Kg1,Qxa2', 'Qf6#', 'https://lichess.org/training/bJfYw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bjg9E', 'Rapid', 'isaac1111', 1803, 'jfl', 1821, 'd4,d5,Bg5,Nc6,c3,h6,Bh4,Nf6,e3,g5,Bg3,h5,h3,Ne4,Bh2,Bf5,f3,Nd6,Bd3,Qd7,e4,dxe4,fxe4,Bxe4,Bxd6,Bxd3,Qxd3,Qxd6,Ne2,O-O-O,Qf5+,Kb8,Qxg5,Bh6,Qg3,Qd5,O-O,Rhg8,Qf3,Qd7,Qxh5,Be3+,Kh1,Rh8,Qf3,Qe6,Qf5,Qc4,Ng3,Rdg8,Ne4,Qe2,Qf3,Qxb2,Nbd2,Bxd2,Nxd2,Qxd2,Rab1,Kc8,Rf2,Qg5,Qxf7,Qg3,Rbf1,Qxc3,Qe6+,Kb8,d5,Nd4', 'Qxg8+,Rxg8,Rf8+,Rxf8,Rxf8#', 'https://lichess.org/training/bjg9E');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BjGFX', 'Rapid', 'vahid_abazari1', 1885, 'mokdad2020m', 1959, 'e4,e5,f4,Bc5,Nf3,d6,fxe5,dxe5,c3,Qe7,d4,exd4,cxd4,Qxe4+,Be2,Bb6,Nc3,Qg6,O-O,Ne7,Ne5,Qd6,Nxf7,Qxd4+,Qxd4,Bxd4+,Kh1,Rf8,Bc4,Nbc6,Bg5,h6,Bxe7,Nxe7,Nb5,Bb6,Rad1,Bd7,Ne5,Rxf1+,Rxf1,Bf5,g4,Bh7', 'Bf7+,Kd8,Rd1+', 'https://lichess.org/training/BjGFX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bjGhv', 'Blitz', 'RonFischer', 2446, 'wblodw', 2322, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,O-O,Bc5,c3,b5,Bc2,d6,d4,Bb6,h3,Qe7,Re1,h6,a4,Rb8,Na3,b4,Nc4,Ba7,d5,Nd8,cxb4,O-O,Bd2,Ne8,b5,f5,exf5,Bxf5,bxa6,Bc8,b4,Bxa6,b5,Bc8,Bb4,Qf6,Qe2,Bxh3,Ncxe5,dxe5,Bxf8,Bg4,Qxe5,Bxf3,Qxe8,Bxf2+,Kf1,Bh5,Bb4+,Bxe8', 'Rxe8+,Kf7,Rf8#', 'https://lichess.org/training/bjGhv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bjhIk', 'Rapid', 'eldragonaladodera', 1890, 'Dr_Chess_Bear', 1918, 'Nf3,Nc6,g3,e5,Bg2,d5,b3,f6,Bb2,Bf5,d3,Bb4+,Nbd2,e4,Nd4,Nxd4,Bxd4,c5,Bb2,Qa5,c3,Bxc3,Bxc3,Qxc3,dxe4,dxe4,O-O,Rd8,Bxe4,Bh3,e3,Rxd2', 'Qh5+,g6,Qxh3', 'https://lichess.org/training/bjhIk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BjHPb', 'Rapid', 'catchchakri', 1710, 'PavelSalm', 1706, 'e4,d5,exd5,Qxd5,Nc3,Qa5,d4,Nf6,Nf3,Bg4,h3,Qh5,Be2,Nc6,Be3,e6,a3,O-O-O,O-O,Bxh3,gxh3,Qxh3,Nh2,Bd6,Nf3,Ng4,Ne4,Bh2+,Kh1,Nce5,Neg5,Qh5,Qe1,Bg3+,Kg2,Nxf3,Nxf3,Bd6,Rh1,Nxe3+,fxe3,Qg4+,Kf1,e5,dxe5,Bxe5,Nxe5,Qe4,Nf3,g5,Kf2,g4,Ng5,g3+,Kg1', 'Qxe3+,Kf1,Qxg5', 'https://lichess.org/training/BjHPb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bJior', 'Blitz', 'Call_Me_Crazy', 2030, 'ArtemyChess', 1686, 'd4,Nf6,Nf3,d6,e3,g6,Be2,Bg7,O-O,O-O,b3,Bg4,Bb2,Nbd7,Nbd2,c5,h3,Bxf3,Bxf3,cxd4,exd4,d5,c4,dxc4,Nxc4,Rb8,Re1,e6,Rc1,Nd5,Ne5,Nxe5,dxe5,Nb4,Qxd8,Rfxd8,Rc7', 'Nd3,Rd1,Nxb2,Rxd8+,Rxd8', 'https://lichess.org/training/bJior');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bJiUY', 'Classical', 'Trainee_InTraining', 1874, 'AlesandroNonika', 1932, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d6,Be3,Nf6,f3,Nxe4,fxe4,Qh4+,g3,Qxe4,Qf3,Qxf3,Nxf3,Bg4,Bg2,O-O-O,Nbd2,Re8,Kf2,f5,Rae1,Ne5,Bxa7,Be7,Nxe5,dxe5,Be3,f4,gxf4', 'Bh4+,Kf1,Bxe1', 'https://lichess.org/training/bJiUY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bJL7P', 'Rapid', 'jesusmor', 1727, 'bcm5059', 1663, 'e4,d5,exd5,Nf6,d4,g6,Bc4,Nxd5,Nf3,Bg7,Ne5,Bf5,Qf3,c6,Nxf7,Kxf7,g4,e6,gxf5,exf5,Nc3,Kf6,Nxd5+,cxd5,Qg3,Re8+,Kf1,dxc4', 'Bg5+,Kf7,Bxd8', 'https://lichess.org/training/bJL7P');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bJOqV', 'Classical', 'alataquer', 1642, 'Chligou', 1628, 'e4,e5,Nf3,Nf6,Nxe5,Qe7,d4,d6,Nf3,Nxe4,Be3,Bg4,Be2,Nc6,Nbd2,Nxd2,Nxd2,Bxe2,Qxe2,O-O-O,O-O,Qf6,Qg4+,Kb8,Bg5,Qxd4', 'Qxd4,Nxd4,Bxd8', 'https://lichess.org/training/bJOqV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BjOXx', 'Blitz', 'vladtheinnocuous', 1713, 'cristijiru', 1697, 'e4,c5,Nf3,d6,Bb5+,Bd7,Bxd7+,Qxd7,c3,g6,O-O,Bg7,d4,cxd4,cxd4,Nf6,Bg5,O-O,Nc3,Nc6,a3,a6,Rc1,b5,Qd2,Nh5,Rfd1,Rad8,Nd5,Rc8,Nb6,Qb7,Nxc8,Qxc8,d5,Qg4,dxc6,Be5,Nxe5,dxe5,Bxe7,Nf4,g3,Nh3+,Kg2,Nf4+,Kg1,Nh3+,Kg2,Nf4+,Kh1', 'Qf3+,Kg1,Qg2#', 'https://lichess.org/training/BjOXx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BjP8A', 'Rapid', 'hedihamed1961', 1818, 'E4gle', 1776, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d3,O-O,Nc3,d6,h3,a5,a3,a4,b4,axb3,Bxb3,Nd4,Bc4,c6,Bb2,d5,exd5,cxd5,Bb5,Nxb5,Nxb5,e4,dxe4,Nxe4,Nc3,f5,Qxd5+,Qxd5,Nxd5,Bd7,Ne5,Bb5,c4,Nd2,cxb5,Nxf1,Kxf1,Rad8,Nf4,Rd2,Ned3,Rd8,Nxc5,Rxb2,Nce6,Rdd2,a4,Rxf2+,Ke1,h6,Nd3,Rbe2+,Kd1,Rxg2,Nef4,Rd2+,Ke1,Rh2,Ra3,Rc2,Kd1,Rcd2+,Ke1,Rc2,Kd1,Rcd2+,Kc1,Rc2+,Kb1,Rcd2,Rc3,g5,Rc8+,Kf7,Ne5+,Ke7,Nfg6+,Kd6,Rd8+,Ke6,Rxd2,Rxd2,Nc4,Rd8,Nge5,Rc8,Kb2,f4,Kc3,Kd5,Kd3,f3', 'Nb6+,Kxe5,Nxc8', 'https://lichess.org/training/BjP8A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bJPRj', 'Blitz', 'miniond', 2205, 'A796', 1884, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,O-O,b5,Bb3,Be7,Re1,O-O,f4,Bb7,e5,Nd5,Nxd5,exd5,Nf5,dxe5,Rxe5,Bf6,Re3,d4,Rg3,Nc6,Nh6+,Kh8,Nxf7+,Rxf7,Bxf7,Qb6,Qh5,d3+,Kh1,dxc2,Qxh7+,Kxh7', 'Rh3+,Bh4,Rxh4#', 'https://lichess.org/training/bJPRj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BjQAY', 'Rapid', 'Tyro31King', 1729, 'Luisael', 1769, 'e4,e6,Nf3,d5,exd5,exd5,d4,Nf6,Bd3,Bd6,O-O,O-O,Bg5,Bg4,Nc3,c6,h3,Bh5,Bf5,h6,Bh4,g5,Bg3,Bxg3,fxg3,Nbd7,Ne5,Bxd1,Nxd1,Ne4,Nxd7,Nxg3,Ne3,Nxf1,Rxf1,Qa5,Ng4,Kg7,Ndf6,Qd2,Nh5+,Kh8,Ngf6,Qxd4+,Kh1,Qxb2,Nd7,Rfe8,Ndf6,Re7,Kh2,d4,Ng4,c5,Nxh6,c4,Nf6,b5,Bh7,d3,cxd3,cxd3,Bxd3,Qc3,Bxb5,Rb8,Ba6,Qe5+,Kh1,Qg3,Bc4,Re1', 'Nxf7+,Kg7,Nh5+,Kg6,Nxg3', 'https://lichess.org/training/BjQAY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bjqUA', 'Classical', 'AndreAz28', 2295, 'Expeed', 2135, 'e4,c5,Nc3,Nc6,f4,e6,Nf3,d5,Bb5,d4,Bxc6+,bxc6,Ne2,Nf6,d3,Be7,b3,O-O,O-O,a5,a4,Ba6,Ng3,Kh8,e5,Nd5,Qe1,Qd7,Ne4,f6,Ba3,Nb4,Rc1,Qd5,Qd2,f5,Neg5,h6,Nh3,Na2', 'c4,Qd8,Qxa2', 'https://lichess.org/training/bjqUA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BJRmO', 'Blitz', 'neonate', 1528, 'HighL', 1520, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Bc4,Nf6,O-O,Nxe4,Re1,Nf6,c3,b5,Bb3,e6,Bg5,Be7,Bxf6,Bxf6,Nf5,Be5,Rxe5,dxe5,Nxg7+,Ke7,Qf3,Ra7,Na3,Bb7,Qh3,Nd7,Nxe6,fxe6', 'Qxe6+,Kf8,Qf7#', 'https://lichess.org/training/BJRmO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bJtoh', 'Rapid', 'letabac', 1767, 'Yory21', 1731, 'e4,c5,Nf3,g6,c4,Bg7,d4,cxd4,Nxd4,Nc6,Be3,Nf6,Nc3,O-O,Be2,Re8,O-O,e6,Ndb5,a6,Nd6,Re7,Qd2,Ne5,h3,b5,cxb5,axb5,Bxb5,Ba6,Bxa6,Rxa6,f4,Rxd6,Qxd6,Nc4,Qd3,Nxe3,Qxe3,d5,e5,d4,Rfd1,Rd7,Qe2,dxc3,exf6,Rxd1+,Rxd1,Qxf6,bxc3,Qxc3,Rd8+,Bf8,Qd2,Qc5+,Qd4', 'Qxd4+,Rxd4,Bc5,Kh2,Bxd4', 'https://lichess.org/training/bJtoh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bJUhJ', 'Blitz', 'Signal84', 1589, 'TheScaredCat', 1561, 'e4,c6,Bc4,d5,exd5,cxd5,Bb3,Nc6,Qf3,Nf6,d3,Bg4,Qg3,e6,h3,Bf5,Nf3,Bg6,O-O,Bd6,Qh4,O-O,Nc3,Be7,Qg3,Nh5,Qg4,a5,a3,Qc7,Nb5,Qd7,Be3,Nf6,Qg3,Bf5,Bb6,Ra6,Bc7,Na7,Ne5,Qc8,Nxa7,Rxa7,Bb6,Ra6,Bd4,Bd6,Rac1,Qc7,Ba4,Nh5,Qe3,Bxe5,Bxe5,Qe7,g4,Nf4,gxf5', 'Qg5+,Qg3,Ne2+,Kg2,Nxg3', 'https://lichess.org/training/bJUhJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BJvkM', 'Rapid', 'T-90S', 2189, 'Koraev_Kazbek', 2203, 'd4,c5,d5,e5,c4,d6,Nc3,Be7,e4,Bg5,Bd3,Bxc1,Rxc1,Nf6,Nge2,O-O,O-O,Nbd7,f4,exf4,Nxf4,Ne5,Be2,Bg4,Bxg4,Nfxg4,Qe2,Qh4,Nh3,Qh6,Rf4,Nf6,Nb5,Nfd7,Rcf1,a6,Nc3,Rab8,a4,Ng6,Rf5,Qh4,Rh5,Qe7,Rxh7,Kxh7', 'Qh5+,Kg8,Ng5,Qxg5,Qxg5', 'https://lichess.org/training/BJvkM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BJw3D', 'Classical', 'coryives', 1779, 'AUG_HBAR', 1779, 'd4,Nf6,c4,g6,Nc3,d5,e3,Bg7,Nf3,O-O,cxd5,Nxd5,Bc4,Nxc3,bxc3,c5,O-O,cxd4,cxd4,Nc6,Bb2,Na5,Be2,a6,Ne5,Be6,Bc3,Rc8,Rc1,Nc4,Nxc4,Bxc4,Bxc4,Rxc4,Qd3,Rc8,Qb1,b6,a4,Rb8,Qe4,e6,Rb1,Qd7,Rb4,a5,Rb5,Rfc8,Bd2,Rc4,Rfb1,Rxa4,Qc2,Ra3,g3,Rc8,Qb2,Ra4,Rxb6,e5,dxe5,Rac4,Rb8,Rc2,Rxc8+,Qxc8,Qb8,Bxe5', 'Qxe5,Rxd2,Rb8,Rd8,Rxc8', 'https://lichess.org/training/BJw3D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bJW5s', 'Blitz', 'Kaponice_Anton', 1671, 'Arthanos1', 1692, 'b4,e5,Bb2,Nc6,b5,Nd4,e3,Nxb5,Bxb5,c6,Be2,b5,Bxe5,Qg5,Nf3,Qxg2,Rf1,Qg6,Bb2,Nf6,d4,Bd6,Nbd2,Ng4,h3,Nf6,c4,bxc4,Nxc4,Bc7,Qb3,d5,Nce5,Bxe5,Nxe5,Qh6,Nxc6,O-O,Ba3,Re8,Qc2,Bxh3,Rh1,Ne4,Rb1,Qf6,Rxh3', 'Qxf2+,Kd1,Qg1+,Bf1,Qxf1#', 'https://lichess.org/training/bJW5s');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BjYPc', 'Rapid', 'sewelam', 2028, 'OssamaAzaaz', 1774, 'd4,Nf6,Bf4,g6,Nc3,Bg7,e4,d6,Qd2,O-O,h4,Nh5,Bh6,Nc6,Bxg7,Kxg7,g4,Bxg4,Be2,Bxe2,Qxe2,Nxd4,Qd2,e5,O-O-O,a5,Qe3,Nf6,f4,Ng4,Qg3,Nf6,fxe5,Nh5,Qh2,Ne6,Nf3,Qe7,exd6,cxd6,Nd5,Qd8,Ne3,Qb6,Qg1,Nef4', 'Nf5+,Kh8,Qxb6', 'https://lichess.org/training/BjYPc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bJYwz', 'Rapid', 'kondiz', 1786, 'marmat2', 1675, 'e4,c5,Nf3,Nc6,Bb5,Nd4,Nxd4,cxd4,d3,a6,Ba4,Qa5+,c3,e5,Bd2,b5,c4,Bb4,cxb5,axb5,Bb3,Nf6,O-O,O-O,Bxb4,Qxb4,Na3,h5,Rc1,d6,Qc2,Ng4,Qc6,Qd2,Nxb5,Ra6,Qc2,Qg5,Bc4,Qh4,h3,Nh6,Nxd4,exd4,Bxa6,Bxa6,f4,Qg3,Rf3,Qg6,Qc6', 'Rc8,Qxc8+,Bxc8', 'https://lichess.org/training/bJYwz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BjZeT', 'Rapid', 'Jerm882000', 1684, 'Sajib', 1727, 'd4,Nf6,c4,g6,Nf3,Bg7,Nc3,O-O,g3,d6,e4,c6,Be3,Bg4,Bg2,Qa5,O-O,Qh5,Rc1,e5,d5,g5,Bxg5', 'Bxf3,Qxf3,Qxg5', 'https://lichess.org/training/BjZeT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BK1aM', 'Bullet', 'yohanes168', 1864, 'dejesusj', 1999, 'e4,c5,Nc3,e6,g3,Nc6,Bg2,g6,Nge2,Bg7,O-O,Nge7,d3,h5,f4,h4,f5,hxg3,hxg3,gxf5,Bg5,Nd4,Bh4,Qb6,Na4,Qa5,c3,Nxe2+,Qxe2,Qxa4,b3,Qc6,exf5,d5,f6,Bxf6,Bxf6,Rg8,Bxe7,Kxe7,Qh5,Qe8,Rae1,f5,Qxf5,Bd7,Qf6+,Kd6,Bxd5,Kxd5,d4,Rxg3+,Kh2,Rg6', 'Qe5+,Kc6,Qxc5#', 'https://lichess.org/training/BK1aM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BK4Hd', 'Rapid', 'Qazzopro', 1882, 'EtHerk', 1911, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,a3,Nge7,b4,cxd4,cxd4,Nf5,Bb2,Be7,Be2,Bd7,O-O,O-O,b5,Na5,a4,a6,Nc3,Rac8,Qd3,Nc4,Rfb1,axb5,Nxb5,Bxb5,axb5,Qxb5,Ba3,Qd7,Bxe7,Qxe7,Ra7,Rc7,Qb3,Nxd4,Nxd4,Nd2,Qb2,Nxb1,Qxb1,Rfc8,Bf1,h6,Nb5,Qc5,Ra1,Rc6,Nd6,R8c7,Nxb7,Qc1,Qa2,Qc2,Qxc2,Rxc2,Nd6,d4,Ra8+,Kh7,Bd3+,g6,Bxc2,Rxc2,Kf1,d3,Ra1,d2,Ke2', 'Rc1,Kxd2,Rxa1', 'https://lichess.org/training/BK4Hd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bK4L5', 'Blitz', 'MNZ50', 1700, 'MehmetFuatErol2002', 1574, 'e4,c5,f4,Nc6,Nf3,e6,Bc4,d5,exd5,exd5,Bb5,Bd7,Qe2+,Be7,O-O,Nf6,d3,O-O,Ba4,Re8,Qf2,Bd6,Nc3,Ng4,Qg3,f5,Nxd5,Nd4,Nxd4,Bxa4,Nf3,Bxc2,h3,Nf6,Nxf6+,Qxf6,Nh4,Bxd3,Qxd3,Qxh4,Qxd6,Rad8,Qxc5,Re2,Qxf5,Qg3,Qg4', 'Rxg2+,Kh1,Qh2#', 'https://lichess.org/training/bK4L5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BK75b', 'Rapid', 'Winthrop1620', 1856, 'Decopacience15121982', 1848, 'Nf3,e6,d4,d5,Bf4,Bd6,Bxd6,Qxd6,e3,Na6,c3,c5,Ne5,c4,Qf3,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/BK75b');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BK84c', 'Rapid', 'DaisukeGS7', 1807, 'verne', 1811, 'd4,d5,Bf4,Nf6,e3,c5,Nf3,e6,Ne5,cxd4,exd4,Nc6,Bb5,Bd7,c4,Bb4+,Nc3,dxc4,Qa4,Bxc3+,bxc3,Nxe5,dxe5,Bxb5,Qxb5+,Nd7,Rd1,Rb8,Bg5,a6,Bxd8,axb5,Bc7,Rc8,Bd6,f6,f4,Nc5,O-O,Ne4,Bb4,Rc6,Rd4,Nc5,Bxc5,Rxc5,Rfd1,O-O,exf6,gxf6,Rd7,Rf7,Rxf7,Kxf7,Rd7+,Kg6,Rxb7,h5,Kf2,Rf5,Ke3,Rd5,Rb6,Kf7,g3,Rd3+,Ke4', 'f5+,Ke5,Rd5#', 'https://lichess.org/training/BK84c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bk8Di', 'Rapid', 'Chess_is_poetry', 2091, 'AaronHNahum', 2151, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nd7,Ng5,Ngf6,Bd3,e6,N1f3,Bd6,O-O,h6,Ne4,Nxe4,Bxe4,Nf6,Bd3,Qc7,b3,O-O,Bb2,c5,dxc5,Qxc5,Re1,Bd7,Ne5,Bc6,Nxc6,bxc6,Qf3,Qh5,Qxh5,Nxh5,Be4,Rac8,Rad1,Bc5,Bd4,Bxd4,Rxd4,Nf6,Bf3,c5,Ra4,Rc7,Rd1,g5,Rd6,g4,Bxg4,Nxg4,Rxg4+,Kh7,c4,h5,Rg3,Rg8,Rxg8,Kxg8,f4,Kg7,Kf2,Kf6,Kf3,Kf5,h3,h4,Rd8,f6,Rh8,Rd7,Rxh4,Rd3+,Ke2,Rg3,Rg4,Rxg4,hxg4+,Kxf4,b4', 'cxb4,c5,Ke5,Kd3,Kd5', 'https://lichess.org/training/bk8Di');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bK94J', 'Blitz', 'videnak', 1680, 'cptcanuck', 1667, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Bb4,e3,c5,a3,Bxc3+,bxc3,Nbd7,Nf3,Qa5,Qb3,h6,cxd5,hxg5,dxe6,fxe6,Qxe6+,Kd8,Nxg5,Qxc3+,Ke2,Qxa1', 'Nf7+,Kc7,Qd6#', 'https://lichess.org/training/bK94J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bK9FJ', 'Rapid', 'Avnichen', 1878, 'HotBobRoss', 1776, 'e4,c6,Nf3,d5,exd5,cxd5,Bb5+,Bd7,Bxd7+,Qxd7,d4,Nc6,O-O,e6,a3,Bd6,Nc3,a6,g3,Nge7,Bg5,h6,Bxe7,Nxe7,Re1,O-O,Ne5,Qc7,Qg4,Bxe5,Rxe5,Ng6,Rh5,Qb6,Rb1,Rac8,Ne2,Rxc2,Kg2,Kh7,b4,Rc7,Rd1,f5,Qf3,Nh8,Nf4,g6,Rh3,Re7,Qe3,Nf7,Nxd5', 'Qc6,Kg1,Qxd5', 'https://lichess.org/training/bK9FJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BKA7a', 'Classical', 'timothybradley', 1609, 'Sicilian-Htown', 1602, 'e4,c5,Nf3,d6,Bc4,Nf6,Nc3,a6,d3,Nc6,Bg5,e6,Qd2,Be7,O-O,Qb6,Rab1,Qc7,Rfe1,b5,Bb3,b4,Ne2,Qb6,c3,Ng4,Bxe7,Nxe7,cxb4,cxb4,Ng3,O-O,h3,Nf6,Qg5,h6,Qh4', 'Ng6,Qxf6,gxf6', 'https://lichess.org/training/BKA7a');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bkAv0', 'Rapid', 'CHECKic', 2028, 'formula1Gambit', 2026, 'e4,Nc6,d4,e5,d5,Nce7,c4,Ng6,Nc3,a6,Nf3,Bc5,Be2,d6,Bg5,Nf6,Qc2,h6,Bd2,Qe7,O-O-O,Bd7,h3,Nh5,g3,Rb8,Nh4,Nf6,Nf5,Qf8,f4,Ne7,g4,g6,g5,hxg5,fxg5,Nh5,Nh6,Ng8,Bxh5,gxh5,Rdf1,Nxh6,gxh6,Qe7,Qd1,Qh4,Qf3,Rh7,Rf2,Bxf2,Rf1,Bg3,Ne2,Bf4,Nxf4,exf4,Bxf4,Qxh3,Qf2,Qg4,Bg3,b5,Bh4,Qxe4', 'Re1,Qxe1+,Qxe1+', 'https://lichess.org/training/bkAv0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bkaXK', 'Classical', 'McBagel', 1680, 'Pianky', 1638, 'd4,d5,c4,c6,Nc3,Nf6,cxd5,cxd5,Bf4,Bf5,Nf3,e6,e3,a6,Bd3,Bxd3,Qxd3,Bd6,Be5,O-O,O-O,Nc6,Rac1,Nxe5', 'dxe5,Bxe5,Nxe5', 'https://lichess.org/training/bkaXK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bkbCQ', 'Rapid', 'teraferminator123', 1717, 'GrandMasterTarun', 1769, 'd4,d5,c4,Nf6,Nc3,e6,e3,a6,Nf3,c6,Be2,Bb4,O-O,b5,c5,Bxc3,bxc3,O-O,a4,Bb7,axb5,axb5,Rxa8,Bxa8,Qc2,Nbd7,Bb2,Qc7,Ra1,Ne4,Ne1,f5,f3,Ng5,Nd3,e5,dxe5,Nxe5,Nxe5,Qxe5,Bc1,Qe7,Bd3,g6,f4,Ne4,Bb2,Qxc5,Qe2,Qb6,Bxe4,fxe4,Kf2,Rxf4+,Ke1,Rf7,Rxa8+,Kg7,c4+,Kh6,cxd5,cxd5,Bd4,Qc6,Ra2', 'Qc1+,Qd1,Rf1+,Kxf1,Qxd1+', 'https://lichess.org/training/bkbCQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bkBjq', 'Classical', 'Strumbad', 1736, 'opchessplayer123', 1724, 'd4,d5,c4,e6,Nf3,Nf6,Bf4,dxc4,Nc3,Bb4,e3,b5,a4,c6,Be2,O-O,O-O,Bb7,axb5,Bxc3,bxc6,Nxc6,bxc3,Rc8,Qa4,Nd5,Rfc1,Nxf4,exf4,Ne7,Qxa7,Bd5,Nd2,Ng6,g3,Nxf4,gxf4,Qh4,Bf3', 'Bxf3,Nxf3,Qg4+,Kf1,Qxf3', 'https://lichess.org/training/bkBjq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BkBRm', 'Blitz', 'Assd2', 1700, 'QaddafiDuck', 1652, 'e4,c5,Bc4,d6,d3,a6,Nc3,e6,Nf3,Nf6,h3,Be7,a3,O-O,Be3,Nbd7,Qd2,b5,Ba2,Bb7,g4,b4,axb4,cxb4,Ne2,d5,g5,Ne8,exd5,exd5,d4,Nb6,h4,Nc4,Bxc4,dxc4,Rh3,Rc8,h5,c3,bxc3,bxc3,Nxc3,Bb4,Ra3,Bxa3,Nb1,Be7,Ne5,Nd6,g6,fxg6,hxg6,Ne4', 'gxh7+,Kh8,Ng6#', 'https://lichess.org/training/BkBRm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bKBSD', 'Rapid', 'Ser3775', 1672, 'antonov1958', 1659, 'e4,e5,Nf3,Nc6,Bb5,d6,O-O,Bd7,Nc3,Nf6,a3,Be7,Re1,Nd4,Nxd4,exd4,Bxd7+,Qxd7,Nd5,Nxd5,exd5,O-O,c3,dxc3,dxc3,Bf6,Be3,c6,Qb3,c5,Rab1,b5,Qc2,c4,f4,a6,f5,g6,Bh6,Rfe8,fxg6,fxg6,Qf2,Qf7,Re6,Rxe6,dxe6,Qxe6,Rf1,Bg7,Bxg7,Kxg7,Re1,Qf7,Qh4,Rf8', 'Re7,Kg8,Rxf7', 'https://lichess.org/training/bKBSD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bkc3q', 'Blitz', 'deottam', 1535, 'Morten123', 1563, 'e4,e5,Nf3,Nc6,Bb5,d6,d3,Be6,Nc3,Be7,O-O,Nf6,h3,O-O,Bxc6,bxc6,d4,exd4,Nxd4,Bd7,Re1,Re8,Bf4,Bf8,e5,dxe5,Bxe5,Bc5,Nb3,Bb4,Qf3,Nd5,Qg3,f6,Nxd5,fxe5,Nxb4,e4,Re3,Bf5,Nxc6,Qd7,Nb4,Rab8,a3,c5,Nxc5,Qb5,Nb3,a5,Na2,Rbc8,Nc3,Qc4,Qf4,a4,Nd2,Qd4,Ndxe4,Rxe4,Rxe4,Bxe4,Nxe4,Rxc2,Qb8+,Kf7,Ng5+,Kg6,Qh8', 'Qxf2+,Kh2,Qxg2#', 'https://lichess.org/training/Bkc3q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BKDC3', 'Rapid', 'ayman71', 2151, 'RajkoMitic', 2055, 'd4,c5,c4,cxd4,Qxd4,Nf6,Qd1,g6,Nc3,Nc6,Nf3,Bg7,a3,O-O,g3,d6,Bg2,e5,O-O,Bg4,h3,Bxf3,Bxf3,Qe7,Bg5,h6,Nd5,Qd8,Bxf6,Bxf6,Nxf6+,Qxf6,Qb3,Rab8,e3,Qe6,Bd5,Qxh3,Qc2,Kg7,Bg2,Qe6,Rad1,f5,Bd5,Qf6,Kg2,f4,exf4,exf4,Rfe1,fxg3,Re6,Qxf2+,Qxf2,gxf2,Rxd6,Rbe8,Rf1,Ne5,Rxf2,Rxf2+,Kxf2,g5,Bxb7,Ng4+,Kg3,h5,c5,Re3+,Kg2,h4,Rd2,h3+,Kf1,h2,Kg2,Re1,Kg3,Rg1+,Kh3,Ne5,Rxh2,g4+,Kh4,g3,Rh3,Ng6+,Kg5,Nf8,Bd5,Rd1,Bf3,Ne6+,Kg4,Nxc5', 'Bxd1,g2,Rg3', 'https://lichess.org/training/BKDC3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bKdVt', 'Blitz', 'geniarus', 1595, 'biheba13', 1608, 'e4,Nc6,f4,e5,d3,Nf6,Nf3,d6,Be2,Bg4,Nc3,Bxf3,Bxf3,Be7,f5,a5,Be3,Qd7,Qd2,Nd4,O-O-O,b5,Ne2,Nxe2+,Qxe2,c5,g4,a4,g5,Ng8,h4,b4,h5,a3,b3,f6,gxf6,Nxf6,Rhg1,O-O,Bh6,Rf7,Rg2,Kh8,Be3,Qe8,Rdg1,Ra7,h6,gxh6,Bxh6,Bf8,Bh5,Bxh6+,Kb1,Nxh5,Qxh5,Bg7', 'Rxg7,Rxg7,Qxe8+,Rg8,Qxg8#', 'https://lichess.org/training/bKdVt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BKfLQ', 'Rapid', 'Amora1972', 1767, 'bratobov', 1800, 'e4,e5,Bc4,Nf6,Nf3,Nxe4,Bxf7+,Kxf7,Nxe5+,Kg8,Qh5,Ng5,O-O,Be7,d4,d6,Bxg5,dxe5,Bxe7,Qxe7,Nc3,Nd7,Nd5,Qd6', 'Qe8+,Nf8,Ne7+,Qxe7,Qxe7', 'https://lichess.org/training/BKfLQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BkFUD', 'Blitz', 'Egehan_ipek1703', 2276, 'etineho', 2279, 'e4,e6,d4,d5,e5,c5,c3,Bd7,Nf3,Nc6,Be3,Qb6,Qb3,Qxb3,axb3,cxd4,cxd4,Bb4+,Nc3,Nge7,Kd2,Nf5,Bd3,g6,Bxf5,gxf5,g3,Ke7,Ne1,h5,h4,Ba5,Nd3,Bb6,Ne2,Na5,Ra3,Bb5,Rha1,Nc6,Nc3,Ba6,b4,Bxd3,Kxd3,f4,gxf4,Rhg8,b5,Nb4+,Kd2,Rg4,Na4,Rc8,Nxb6', 'Rc2+,Ke1,Rg1#', 'https://lichess.org/training/BkFUD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bkGtK', 'Blitz', 'Kastling', 2258, 'IM damestar', 2320, 'e4,c5,d4,cxd4,c3,Nf6,e5,Nd5,Nf3,d6,cxd4,Nc6,Bc4,Nb6,Bb3,dxe5,d5,Na5,Nc3,Nxb3,Qxb3,f6,Be3,g6,O-O-O,Nd7,Rhe1,Qa5,d6,Nc5,Bxc5,Qxc5,d7+,Bxd7,Rxd7,Kxd7,Qxb7+,Ke6,Qxa8', 'Bh6+,Kb1,Rxa8', 'https://lichess.org/training/bkGtK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bkI7p', 'Rapid', 'Tino9', 1779, 'vazire_fadakar', 1750, 'e4,e5,Nf3,d6,Bc4,h6,O-O,Nf6,Re1,Be7,c3,O-O,d4,exd4,cxd4,d5,exd5,Nxd5,Bxd5,Qxd5,Rxe7,Bg4,Re5,Bxf3,gxf3,Qd6,Nc3,Nc6,Re4,f5,Bf4', 'Qg6+,Bg3,fxe4', 'https://lichess.org/training/bkI7p');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BkOgI', 'Classical', 'Abu-Ghassan', 1947, 'Victor34Jesus', 1924, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,g6,Nxc6,bxc6,Bd3,Bg7,O-O,O-O,h3,d5,exd5,Nxd5,Ne4,e5,Bg5,Qb6,Rb1,Be6,a3,a5,Nd6,c5,Nc4,Qc6,Re1,h6,Bd2,Rfd8,Bxa5,Rd7,Bd2,Nf4,Bxf4,exf4,Qc1,f3,g4,h5,gxh5,Bxh3,hxg6,fxg6,Ne5,Bxe5,Rxe5,Rh7,Bc4+,Kh8,Bf1,Ra4,Qg5', 'Rg4+,Qxg4,Bxg4', 'https://lichess.org/training/BkOgI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bKpkE', 'Blitz', 'GM Bocharov-Ivan', 2541, 'schpringer', 2350, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,c4,Bg7,Be3,Nf6,Nc3,O-O,Be2,d6,O-O,Bd7,f3,Nxd4,Bxd4,Bc6,Rc1,Nd7,Be3,Qa5,Kh1,Nc5,a3,Na4,b4,Nxc3,Rxc3,Qa4,Rd3,Qxd1,Rfxd1,a6,Bb6,Rfc8,Kg1,Ba4,Rc1,Rc6,Bd4,Rac8,Bxg7,Kxg7,Rdc3,b5,Kf2,bxc4,Rxc4,Rxc4,Rxc4,Rxc4,Bxc4,Bb5,Bb3,Kf6,a4,Bc6,Ke3,e6,Kd4,Ke7,Bc4,Bxa4,Bxa6,Kd8,e5,Kc7,f4,Kb6,exd6,Kxa6,Ke5,Kb6,Kf6,Kc6', 'Ke7,Kd5,d7,Bxd7,Kxd7', 'https://lichess.org/training/bKpkE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BKQMx', 'Blitz', 'aljean1029', 1711, 'kyousoo', 2231, 'e4,e6,d4,d5,Nf3,dxe4,Ng5,Nf6,Nc3,Bb4,a3,Bxc3+,bxc3,h6,Nh3,c5,Bb5+,Bd7,Bxd7+,Nbxd7,O-O,O-O,f4,exf3,Rxf3,Qb6,Nf4,Rac8,Rg3,Rfd8,Nh5,Nxh5,Qxh5,e5,Bxh6,g6,Qh4,cxd4,Bg5,dxc3+,Kh1,Re8,Rf1,Nf8,Bf6,Nh7,Rgf3,Re6', 'Qxh7+,Kxh7,Rh3+,Kg8,Rh8#', 'https://lichess.org/training/BKQMx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bkQt4', 'Blitz', 'juankgra', 1906, 'kSACRIF', 2048, 'e4,d6,Nf3,e5,d4,exd4,Nxd4,g6,Nc3,Bg7,Be3,Nf6,Qd2,O-O,Bh6,Re8,Bxg7,Nxe4,Nxe4,Rxe4+,Be2,Kxg7,O-O-O,Nc6,Nxc6,bxc6,Bd3,Ra4,Kb1,Qf6,h4,Be6,b3,Rb8,h5,Bxb3,cxb3', 'Rxb3+,axb3,Qa1+,Kc2,Ra2#', 'https://lichess.org/training/bkQt4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bKQz8', 'Rapid', 'Given1234', 1730, 'billiman', 1743, 'e4,c5,Nf3,d6,d3,Nf6,g3,e6,Bg2,Nc6,O-O,Be7,Re1,Qc7,c3,O-O,a3,Rb8,d4,cxd4,cxd4,d5,e5,Ne4,Nc3,Nxc3,bxc3,Na5,h4,Nc4,Qc2,h6,Nh2,a5,Ng4,h5,Ne3,b5,Nxc4,bxc4,Bg5,Bxg5,hxg5,g6,Bf3,Bd7,Kg2,Rb3,Rh1,Rfb8,Rab1,Rxb1,Rxb1,a4,Rh1,Rb3,g4,hxg4,Bxg4,Rxa3,Bh5,Kg7,Qd2,Rb3,Qf4,Qd8,Bxg6,fxg6,Qh4,Qg8,Qf4,Qf8', 'Rh7+,Kxh7,Qxf8', 'https://lichess.org/training/bKQz8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BKr81', 'Rapid', 'Ruslan404', 1959, 'hazarrd', 1933, 'e4,c5,f4,g6,Nf3,Bg7,Bc4,e6,f5,exf5,exf5,Ne7,O-O,O-O,Ng5,Nxf5,Rxf5,gxf5,Qh5,h6,Nxf7,Rxf7,Qxf7+,Kh8,Qxf5,d6,Qf3,Nc6,Nc3,Ne5,Qd5,Nxc4,Qxc4,Bd4+,Kh1,Qh4,Qf1,Be6,d3,Be5,h3,Qg3,Qg1,Rg8,Ne4,Qg7,g4,d5,Nf2,Bxb2,Bxb2,Qxb2,Rb1,Qxc2,Rxb7,d4,Qg3', 'Bd5+,Kh2,Bxb7', 'https://lichess.org/training/BKr81');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BKrAm', 'Blitz', 'Deslock', 1657, 'Tugatop', 2234, 'd4,Nf6,c4,e6,Nc3,Bb4,Bg5,h6,Bh4,b6,Nf3,Bb7,Bxf6,Qxf6,a3,Bxc3+,bxc3,O-O,e3,c5,d5,exd5,cxd5,d6,e4,Nd7,Bd3,c4,Bc2,Nc5,O-O,Rfe8,Re1,a5,Rb1,Qd8,Qd4,Ba6,Nh4,Rb8,Nf5,f6,Re3,Rb7,Rg3,Kh7,h3,Nd3,Bxd3,cxd3,c4,d2,Qxd2,Bxc4,Qf4,Re5,Rg4,Bd3,Rxb6,Qxb6', 'Rxg7+,Rxg7,Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/BKrAm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bkSUd', 'Blitz', 'mosayeb1204', 2196, 'FormelKn', 2129, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Bg5,Be7,Qf3,Qc7,Bb3,b5,O-O-O,Bb7,Rhe1,Nbd7,Bxe6,Ne5,Qh3,O-O,Bxf6,Bxf6,Bd5,b4,Bxb7,bxc3,Bxa8,cxb2+,Kb1,Rxa8,Nf5,Rd8,Qb3,Nc4,f4,Rb8,Qa4,Qc5,Rd3,g6,e5,dxe5,fxe5,Bxe5,Ne7+,Kg7,Nc6,Re8,Nxe5,Rxe5,Rxe5', 'Qg1+,Re1,Qxe1+,Rd1,Qxd1#', 'https://lichess.org/training/bkSUd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BKsxy', 'Blitz', 'WFM Idrisova_Roza', 2206, 'rOnAvIVi', 1900, 'd4,d5,Nf3,Bf5,Bf4,e6,e3,Bd6,Bg3,Nf6,Nh4,Bg6,Nd2,Nbd7,c4,c6,c5,Bxg3,hxg3,Bh5,Be2,Bxe2,Qxe2,Qe7,f4,Ne4,Nxe4,dxe4,Qc2,f5', 'Ng6,hxg6,Rxh8+', 'https://lichess.org/training/BKsxy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bKTqP', 'Rapid', 'huardy12', 1672, 'Roedor2010', 1662, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,Nc3,Bc5,d4,Bxd4,h3,O-O,Bg5,h6,Bh4,Re8,Bd3,Bxc3+,bxc3,g5,O-O,gxh4,Re1,Kh8,e5,Nh7,Qh5,Rg8,Qxh6,Rg7,Re4,Bxh3,Rxh4,Bxg2,Bxh7,Be4+', 'Bg6+,Kg8,Qh8#', 'https://lichess.org/training/bKTqP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bKudZ', 'Rapid', 'majid1355', 1667, 'King_of_knights', 1653, 'd4,Nf6,Nf3,d5,Nc3,e6,Bg5,Nc6,Ne5,Be7,Bxf6,Bxf6,Nxc6,bxc6,e3,O-O,Bd3,e5,Qh5,g6,Qe2,exd4,Nd1,dxe3,Nxe3,Re8,O-O-O,Rb8,b3,d4,Qf3,dxe3,fxe3,Bb7,Be4,Qe7,Bxc6,Bxc6,Qxc6,Qa3+,Kd2,Rbd8+,Ke2,Rxd1', 'Qxe8+,Kg7,Rxd1', 'https://lichess.org/training/bKudZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bkUrR', 'Blitz', 'JohnBerlin', 1560, 'pooldead1', 1557, 'e4,e5,f4,d5,exd5,Nh6,fxe5', 'Qh4+,g3,Qe4+,Qe2,Qxh1,Qg2,Qxg2', 'https://lichess.org/training/bkUrR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bkUyF', 'Blitz', 'elgalgo2017', 2487, 'FM GreenRanger87', 2466, 'e4,e6,d4,d5,Bd3,dxe4,Bxe4,Nf6,Bf3,c5,Ne2,Nc6,Be3,cxd4,Nxd4,Ne5,Nc3,a6,Qe2,Nxf3+,Qxf3,e5,O-O-O,exd4,Bxd4,Be6,Rhe1,Bb4,Bxf6', 'Qxf6,Qxf6,gxf6', 'https://lichess.org/training/bkUyF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BkV2c', 'Rapid', 'ronvio', 1818, 'MChabot', 1835, 'd4,d5,c4,c6,Nc3,e6,Nf3,Nf6,Qc2,Bd6,Bg5,Nbd7,e3,b6,Bd3,Qc7,e4,dxe4,Nxe4,Nxe4,Bxe4,h6,Bd2,Nf6,Bd3,O-O,O-O-O,Bf4,Kb1,Bb7,Rhe1,Rfd8,g3,Bxd2,Rxd2,Kf8,Qc3,c5,Bc2,cxd4,Nxd4,a6,f4,Rac8,b3,Rd7,Red1,Rcd8,Qe3,Qc5,h3,b5', 'Nxe6+,fxe6,Qxc5+', 'https://lichess.org/training/BkV2c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BkvnS', 'Blitz', 'BDV_78', 1649, 'av7', 1644, 'd3,e6,e4,d5,Nf3,dxe4,dxe4,Qxd1+,Kxd1,Nc6,Be3,e5,Nbd2,Be6,c3,O-O-O,Kc2,Nf6,Rd1,b6,h3,Bc5,Ba6+,Kb8,Bxc5,bxc5,Nb3,Bxb3+,axb3,Nxe4,Rxd8+,Rxd8,Bb5,Kb7,Bxc6+,Kxc6,Nxe5+,Kb5,c4+,Kb4,f3,Rd2+,Kb1,Nf2,Nc6+,Kxb3,Rc1,Nd3', 'Rc3+,Ka4,Ra3#', 'https://lichess.org/training/BkvnS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BKwii', 'Classical', 'Chess_Zer0', 2023, 'adventurousblackcat', 2132, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb5,d6,N1c3,a6,Na3,b5,Nd5,Nf6,Bg5,Be7,Bxf6,Bxf6,c4,b4,Nc2,a5,g3,Ba6,b3,Bb7,Bg2,O-O,O-O,Nd4,Nxd4,exd4,Qd3,Bxd5,exd5,Re8,Rfe1,a4,Be4,g6,Bg2,Rxe1+,Rxe1,axb3,axb3,Qa5,h4,Qa2,Bf3,Qb2,Rb1,Qc3,Be2,Ra2,Kg2,Rd2,Qf3,d3,Bd1,Bd4,Qg4,Rxf2+,Kh3,Qd2,Qxd4,Rh2+,Kg4,f5+,Kf3,Qg2+,Ke3,Qf2+,Kxd3,Qxg3+,Qe3,Qxh4,Ra1,Rh3,Ra8+,Kg7,Ra7+,Kf8,Bf3,Qf6,Ra8+,Kg7,Ra7+,Kf8,Ke2,Qb2+,Kf1,Qb1+,Kf2,Qc2+,Qe2', 'Rh2+,Kf1,Rxe2', 'https://lichess.org/training/BKwii');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bkWmL', 'Rapid', 'Izar1993', 1908, 'AVENTINO', 1906, 'd4,d5,c4,e6,Nc3,Nf6,Bf4,dxc4,e3,Bd6,Bg3,Bxg3,hxg3,Nd5,Bxc4,Nxc3,bxc3,c6,Qg4,Qf6,Bd3,h6,Nf3,Na6,Qe4,Bd7,Rb1,b5,a4,Rb8,axb5,cxb5,Bxb5,Bxb5,Rxb5,Rxb5,Qc6+,Ke7,Qxb5,Qf5,Qxf5,exf5,Kd2,Rb8,Kc2,f6,Rb1,Rxb1,Kxb1,Kd6,Kc2,Kd5,Kd3,Nc7,Nd2,a5,c4+,Kc6,Kc3,Kb6,Kb3,g5,Ka4,Ne6,Nb3,f4,gxf4,gxf4,e4,h5,d5,Nc5+,Nxc5,Kxc5,Kxa5,h4,Ka6', 'f3,gxf3,h3', 'https://lichess.org/training/bkWmL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BKxNx', 'Rapid', 'efeo', 1819, 'GuidryVA', 1770, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Bc5,Re1,O-O,c3,d6,d4,exd4,cxd4,Nxd4,Nxd4,Bg4,f3,Bh5,Be3,Nxe4,g4,Bxd4,Bxd4,Nf6,Bxf6,Qxf6,Nc3,Bg6,Bd3,c6,Ne4,Bxe4,Rxe4,Qxb2,Qe1,d5,Re7', 'Qd4+,Kg2,Qxd3', 'https://lichess.org/training/BKxNx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BKYa7', 'Rapid', 'couc', 2220, 'Dhmayer', 2227, 'e4,e6,d4,d5,e5,c5,c3,Nc6,Nf3,Qb6,Bd3,Bd7,dxc5,Bxc5,O-O,f6,Qe2,fxe5,Nxe5,Nxe5,Qxe5,Nf6,a4,Bxf2+,Kh1,Bc5,Bg5,Bd6,Qe2,O-O-O,a5,Qc7,h3,Rdf8,Na3,e5,Nb5,Bxb5,Bxb5,Ne4,Qg4+,Kb8,Be3,h5,Qh4,Be7,Qe1,d4,cxd4,exd4,Rxf8+,Rxf8,Bxd4,Ng3+,Kg1,Bc5,Qc3,Bxd4+,Qxd4,a6,Bxa6,bxa6', 'Qb4+,Ka7,Qxf8', 'https://lichess.org/training/BKYa7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BkZrz', 'Rapid', 'pokya', 1828, 'araeta', 1783, 'Nf3,c5,g3,g6,Bg2,Bg7,Kf1,Nc6,h4,e6,d4,Nge7,dxc5,Nf5,c3,Qc7,Bf4,Qd8,Bh3,O-O,Kg2,Qe7,Bxf5,gxf5,Bd6,Qf6,Bxf8,Bxf8,Nbd2,Bxc5,e3,d5,Nb3,Bd6,Nbd4,Bd7,Nxc6,Bxc6,Qd4,Qg6,h5,Qh6,Rh4,f6,g4,e5,Qd1,e4,Nd4,f4,Nf5,f3+,Kh3,Qf8,c4,Be5,cxd5,Rd8,Qb3,Bxd5,Qb5,Bc6,Qc4+,Bd5,Qb5,Bc6,Qb3+,Bd5,Qa4,Bb8,Rd1,Qc5,Qd4,Qc7,Ng3,Kg7,h6+,Kf7,Rh5,Qc2,Rxd5,Qxf2,Rd7+,Rxd7,Qxd7+,Kf8,Qd8+,Kf7,Rd7+,Kg6,Qxb8', 'Qg2+,Kh4,Qh2#', 'https://lichess.org/training/BkZrz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bl0nu', 'Classical', 'MarilinMonroe', 1978, 'alex110890', 1607, 'e4,c6,d4,d5,Nc3,dxe4,Nxe4,Nd7,c4,Ngf6,Nc3,e6,Nf3,c5,d5,exd5,Nxd5,Nxd5,Qxd5,Nf6,Qxd8+,Kxd8,Bg5,Be7,O-O-O+,Kc7,g3,Be6,b3,Rhd8,Bg2,Bg4,h3,Bh5,g4,Bg6,Ne5,Be4,Bxe4,Nxe4,Bxe7,Re8,Bxc5,Rxe5,Be3,Rae8,Bf4,Nxf2,Rhe1,f6,Bxe5+,fxe5,Rd5,Kc6,Rexe5', 'Rxe5,Rxe5,Nd3+,Kc2,Nxe5', 'https://lichess.org/training/bl0nu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BL0os', 'Rapid', 'Sportpokerloto', 2086, 'afshinpouladvand', 2075, 'e4,Nc6,Nc3,Nf6,d4,d5,e5,Ne4,f4,e6,Nf3,Be7,Bd3,Bh4+,g3,Nxc3,bxc3,Be7,O-O,O-O,g4,Na5,f5,f6,h4,exf5,gxf5,fxe5,dxe5,Bxf5,Bg5,Bxd3,Qxd3,g6', 'Bxe7,Qxe7,Qxd5+', 'https://lichess.org/training/BL0os');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bl0qZ', 'Classical', 'Rafik77700', 1873, 'ciller29', 1886, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,e5,Nb3,Be7,Bc4,Nf6,Nc3,O-O,Nd5,Nxd5,Bxd5,Nd7,O-O,Nb6,Be3,Nxd5,Qxd5,Rb8,f4,Qc7,fxe5,dxe5,Bxa7,Ra8,Be3,Qc6,Qxe5,Bf6,Qg3,Qxe4,Rxf6,Be6,Nc5,Qd5,Nxe6,fxe6,Raf1,Rad8,Qxg7+,Kxg7', 'Bh6+,Kh8,Rxf8+,Rxf8,Rxf8#', 'https://lichess.org/training/bl0qZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bl186', 'Classical', 'Elysium_83', 1789, 'Ramlan_Hakim', 1870, 'e4,e6,Nf3,d5,exd5,exd5,d4,Bg4,Be2,Nf6,Ne5,Bxe2,Qxe2,Be7,O-O,O-O,Nd2,Nbd7,Ndf3,Re8,Bf4,Bd6,Rfe1,c6,Qd3,Qc7,Nxd7,Nxd7,Bxd6,Qxd6,Qf5,Nf6,Ne5,Qe6,Qf4,Qd6,Qh4,Qb4,c3,Qxb2,Rab1,Qxc3,Rec1,Qd2,Rd1,Qe2,Re1,Qd2,Red1,Qe2,Re1,Qa6,Rb2,Re7,Reb1,Rae8,g4,h6,g5,hxg5,Qxg5,Ne4,Qg4,Rxe5,dxe5,Rxe5,Rxb7', 'Rg5,Qxg5,Nxg5', 'https://lichess.org/training/bl186');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BL275', 'Rapid', 'M8ingSeason', 2008, 'Jps23chess', 2043, 'd4,d5,Bf4,Nf6,Nc3,Bf5,Qd2,e6,f3,Bb4,g4,Bg6,h4,h6,e3,Nbd7,Bd3,Bxd3,Qxd3,c5,Ne2,Qa5,a3,cxd4,Qxd4,Rc8', 'Qxb4,Qxb4,axb4', 'https://lichess.org/training/BL275');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bl3GA', 'Rapid', 'bbas12', 1763, 'Gabbe85', 1748, 'e4,e6,Nf3,d5,c4,dxe4,Ne5,f6', 'Qh5+,g6,Nxg6,hxg6,Qxh8', 'https://lichess.org/training/Bl3GA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bl5lx', 'Rapid', 'FaithNoMore', 1767, 'beccorosso', 1729, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Nc3,Bd6,Be2,O-O,Bg5,c6,Qd2,Bg4,O-O-O,Nbd7,h3,Bh5,g4,Bg6,Bxf6,Nxf6,g5,Ne4,Nxe4,Bxe4,Rhg1,Qc7,Kb1,a5,h4,Bg6,h5,Bxh5,Rh1,Bg6,Nh4,Bf4,Qc3,Bxg5,Nxg6,fxg6,Rdg1,Bh6,Bd3,Rf3,Qe1,Raf8,Qe6+,Qf7,Qe5,Re8,Qd6,Rxf2,Qa3,g5,Qxa5,Qf4,a3,g4,Re1,Rxe1+,Rxe1,Qf8,Qc7,Rf7,Qg3,Rf4,Rh1,Qf6,Re1,Qf7,Ka1,Bg5,Rh1,h5,Qe1,h4,Rxh4,Bxh4,Qxh4,Kf8', 'Qd8+,Qe8,Qd6+', 'https://lichess.org/training/Bl5lx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bl5Nu', 'Rapid', 'Admir4981', 1691, 'lamekan', 1659, 'e4,e5,Bc4,Nf6,d3,Bc5,f4,d6,Nf3,exf4,Bxf4,Ng4,d4,Bb6,Nbd2,Nc6,c3,O-O,h3,Nf6,Qc2,Re8,O-O-O,Na5,e5,Nxc4,Nxc4,Nd5,Bg5,f6,exf6,Nxf6,Rhe1,Rxe1,Rxe1,d5,Nce5,Qf8,Bh4,Ne4,Qb3,c6,Rxe4,Kh8,Rg4,Bxg4,hxg4,Qf4+,Kb1,Qe4+,Qc2,Qxc2+,Kxc2,Kg8,Kd3,Bc7,Bg3,a5,g5,a4,Nh4,b5,g6,h6,Nf5,Re8,Nxc6,Bxg3,Nxg3,Re1,Kd2,Rg1,Ne5,Rxg2+,Ne2,h5,b3,axb3,axb3,h4,Ke3,h3,Kf3', 'Rxe2,Kxe2,h2', 'https://lichess.org/training/Bl5Nu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BL7lo', 'Rapid', 'Eyma_Rubinstein', 1947, 'APLS', 1903, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,a6,Be3,Be7,Be2,d6,O-O,Nf6,Nf3,O-O,e5,dxe5,Bd3,Nd4,Bxd4,exd4,Nxd4,Bc5,Nb3,Ba7,Ne4,b5,Qf3,Bb7', 'Nxf6+,Qxf6,Qxb7', 'https://lichess.org/training/BL7lo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bl7qP', 'Blitz', 'phslll', 1580, 'OniionDogg', 1580, 'd4,d5,e3,Nc6,Nc3,Nf6,Nf3,e5,dxe5,Nxe5,Bb5+,Bd7,Bxd7+,Kxd7,Nxe5+,Ke8,O-O,Ng4,Nxg4,Qh4,Ne5,Bd6,Nf3,g5,Nxh4,gxh4,Qxd5,Rd8,Qe4+,Be7,Qxh4,Bxh4,g3,Bf6,Ne4,Be5,c3,f5,Ng5,h6,Nf3,Bd6,b4,h5,a4,Rg8,Bb2,h4,b5,hxg3,fxg3,Bxg3,hxg3,Rxg3+,Kh2,Rg4,Ne5,Rg5,c4,Rd6,Nf3', 'Rh6+,Nh4,Rxh4#', 'https://lichess.org/training/bl7qP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bl7vQ', 'Classical', 'flymorgan', 1739, 'Crissaegrim88', 1690, 'Nf3,Nf6,b3,e6,d4,d5,Bb2,c5,e3,Nc6,c4,Bd6,cxd5,exd5,Be2,Bg4,Nbd2,O-O,O-O,cxd4,Nxd4,Bxe2,Nxe2,Bxh2+,Kxh2,Ng4+,Kg1,Qh4,Nf3,Qh6,Ned4,Nce5,Nf5', 'Nxf3+,Qxf3,Qh2#', 'https://lichess.org/training/bl7vQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BL7ZR', 'Rapid', 'manson_rnd', 1543, 'tumnus2021', 1517, 'e4,e5,Nf3,Nc6,Bb5,Nf6,d3,Bc5,O-O,Ng4,Bxc6,dxc6,Bg5,f6,Bh4,g5,Bg3,h5,h3,Nh6,h4,Ng4,Nbd2,gxh4,Bxh4,Rg8,Nh2,Nxh2,Kxh2,Bg4,f3,Be6,f4,Qd4,Nf3,Qe3,f5,Qf4+,g3,Qg4,fxe6,O-O-O,Rg1,Bxg1+,Qxg1,Qxf3,Rf1,Qe2+,Qf2,Qxf2+,Rxf2,Rde8,Rxf6,c5,Rh6,Kb8,e7,Rg7,Rxh5,Rf7,Kg2,Kc8,Rxe5,b6,g4,Kd7,b3,Rf4,Kg3,Rf1,g5,Rxe7,Rxe7+,Kxe7,Kg2,Rc1,c4,Rc2+,Kf3,Rxa2,e5,Rh2,Kg4,Rd2,g6+,Kf8,Bf6,Rxd3,g7+,Kg8,e6,Rd4+,Kf5,Rd1,Be5,Rf1+,Kg6,Rg1+,Kf6,Rxg7', 'e7,Rf7+,Ke6,Rxe7+,Kxe7', 'https://lichess.org/training/BL7ZR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BlaH7', 'Rapid', 'qwerty0000', 1701, 'Emerson07', 1931, 'e4,d5,exd5,Qxd5,d3,Nc6,Nc3,Qd8,Be3,Nf6,Nf3,a5,Be2,e6,O-O,g6,Bg5,h6,Bxf6,Qxf6,h3,Bg7,d4,O-O,Ne4,Qd8,c3,Ne7,Qd2,f5,Nc5,b6,Nd3,Nc6,Nf4,g5,Bb5,gxf4,Bxc6,Rb8,Qxf4,Qd6,Qxd6,cxd6,d5,e5,Nh4,Kh7,f4,e4,g3,Bf6,Ng2,Ba6,Rfe1,Bd3,Ne3,Rg8,Kh2,Rg6,Bd7,Rg7,Bxf5+,Kh8,Be6,Rc7,Nf5,Kh7,Nxd6,Bxc3,bxc3,Rxc3,Nxe4,Rc2+,Kg1,Bc4,Nf6+,Kg7,Nd7,Rb7,a4,b5,axb5,Rxb5,Bf5,Rd2,Re7+,Kg8,Be6+,Kh8,Nf6,Rbb2,Ng4,Rg2+,Kh1,Rxg3,Rxa5,Rxh3+,Kg1,Rg3+,Kh1,Rh3+,Nh2,Rhxh2+,Kg1,Rhg2+,Kh1', 'Rh2+,Kg1,Rbg2#', 'https://lichess.org/training/BlaH7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('blaLP', 'Rapid', 'tomcio1986', 2205, 'GM akitalover', 2552, 'e4,e6,d4,d5,Nc3,Bb4,e5,c5,a3,Bxc3+,bxc3,Ne7,h4,Qc7,f4,cxd4,Bd2,dxc3,Be3,b6,h5,Ba6,Bxa6,Nxa6,Qd3,Nc5,Qxc3,Rc8,Ne2,Ne4,Qxc7,Rxc7,Nd4,O-O,h6,g6,a4,Rfc8,a5,bxa5,Rxa5,Ng3,Rh3,Ngf5,Nxf5,Nxf5,g4,Nxe3,Rxe3,Rxc2,Rxa7,Rh2,Rc3,Rf8,g5,Rb2,Kf1,Rb4,Rf3,Rc8,Kf2,Kf8,Kg3,Rcb8,Rc3,Rb3,Rxb3,Rxb3+,Kg4,Rb8,Rd7,Ke8,Ra7,d4,Kf3,d3,Ke3,Rd8,Kd2,Rd4,Ra8+,Ke7,Ra7+,Ke8,Ra8+,Rd8,Rxd8+,Kxd8,Kxd3,Kc7,Kd4,Kb6,Kd3,Kb5,Ke3,Ka4,Ke4,Ka3,Kd3,Kb3,Kd4,Kb4,Kd3,Kb5,Kc3,Kc5,Kd3,Kd5,Ke3,Kc4,Ke4,Kc3,Ke3,Kc2,Ke2,Kc1,Ke1,Kc2,Ke2,Kc3,Ke3,Kc4,Ke4,Kb4,Kd3,Kb3,Kd4,Kc2', 'Kc5,Kd2,Kd6,Ke3,Ke7', 'https://lichess.org/training/blaLP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BlaW7', 'Rapid', 'danizito', 1740, 'fillerup', 1763, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,b5,Bb3,e5,Nde2,Bb7,f3,Qb6,Nd5,Nxd5,Bxd5,Nd7,Bxb7,Qxb7,O-O,Be7,f4,O-O,Ng3,Bd8,f5,Bb6+,Kh1,Nf6,Re1,Rac8,Bg5,Bd8,c3,Rc4,Bxf6,Bxf6,Qf3,Bh4,f6,Bxf6,Re3,Rd8,Nf5,b4,cxb4,Qxb4,Qg4,Rdc8,h4,Qxb2,Rf1,Rc1,Rxc1,Rxc1+,Kh2,Qb1,Re1,Rxe1', 'Nh6+,Kf8,Qc8+,Ke7,Nf5#', 'https://lichess.org/training/BlaW7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('blBAQ', 'Rapid', 'ConwyCastle', 2183, 'itsmagic', 2322, 'e4,c5,Nf3,Nf6,e5,Nd5,Bc4,Nb6,d3,d6,O-O,dxe5,Nxe5,Nxc4,Nxc4,Nc6,Nc3,e6,Bf4,f6,Re1,e5,Nxe5,Nxe5,Bxe5,fxe5,Rxe5+,Kf7,Qf3+,Qf6,Qd5+,Be6,Rxe6', 'Qxe6,Qxb7+,Be7', 'https://lichess.org/training/blBAQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BlCDG', 'Blitz', 'KenLT', 1710, 'Dwi_cakalang', 1697, 'e4,e5,Nf3,Nf6,Bc4,Qe7,Nc3,c6,d4,exd4,Qxd4,h6,O-O,d6,Re1,Be6,Bd2,Nbd7,Rad1,Bxc4,Qxc4,O-O-O,Bf4,Nb6,Qb3,Nh5,Be3,Kc7,a4,Qe6,Bxb6+,axb6,Qb4,d5,Qd4,Bc5,Qd2,dxe4,Qc1,Rxd1,Qxd1,Rd8,Qc1,f5,Kh1,Bxf2,Re2,e3,a5,bxa5,Qa1,Nf4,Qxa5+,Kb8,Qxd8+,Ka7,Qa5+,Kb8,Nd4,Qg6,Qd8+,Ka7,g3,Nxe2,Ncxe2,Qg4,b4', 'Qe4+,Nf3,Qxf3#', 'https://lichess.org/training/BlCDG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bLcGt', 'Blitz', 'Lionhart1', 1646, 'Raadioactive', 1646, 'e4,c5,g3,d6,Bg2,Nf6,Nf3,e6,O-O,Be7,d4,cxd4,Nxd4,O-O,Bg5,h6,Bd2,Qb6,Bc3,Nc6,Nxc6,bxc6,Na3,Bb7,Nc4,Qc7,f4,c5,Bxf6,Bxf6,e5,Bxg2,exf6,Bxf1,Qxf1,gxf6,Qh3,Kh7,Ne3,Qb6,Ng4,c4+,Kf1,Rh8', 'Qxh6+,Kg8,Nxf6#', 'https://lichess.org/training/bLcGt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bLEif', 'Rapid', 'Dovhyi', 1957, 'javieroskycol', 2312, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Bd6,O-O,O-O,h3,h6,Re1,Be6,Nbd2,Nbd7,Ne5,c5,c3,c4,Bc2,Nxe5', 'dxe5,Bxe5,Rxe5', 'https://lichess.org/training/bLEif');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Blfng', 'Classical', 'Jiazhijie', 1660, 'VPF', 1700, 'e4,Nf6,Nc3,d6,d4,g6,Nf3,Bg7,Bc4,O-O,h3,e5,dxe5,dxe5,Bxf7+', 'Kxf7,Qxd8,Rxd8', 'https://lichess.org/training/Blfng');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BlgSP', 'Blitz', 'IM amanuel', 2194, 'stupido123', 2199, 'c4,e6,g3,Nf6,Bg2,d5,Nf3,Be7,O-O,O-O,b3,b6,Bb2,Bb7,d3,c5,Ne5,Nbd7,f4,Qc7,e3,dxc4,bxc4,Bxg2,Kxg2,Bd6,Ng4,Be7,Nd2,Nxg4,Qxg4,Bf6,Rab1,Rad8,Qf3,Bxb2,Rxb2,Nb8,Rb3,Rd7,Ne4,Rfd8,Nf2,Nc6,a3,Na5,Rc3,Qc6,g4,Qxf3+,Kxf3,Kf8,h4,Ke7,h5,g6,hxg6,hxg6,Rh1,Nc6,Rh7,Na5,Ke4,Nc6,g5,Kf8,Ng4', 'f5+,gxf6,Rxh7', 'https://lichess.org/training/BlgSP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BLIC3', 'Blitz', 'trizuliano', 2169, 'NM foreignaffairs', 2257, 'd4,Nf6,Nf3,e6,g3,d5,Bg2,Bd6,O-O,Ne4,Nbd2,f5,c4,c6,Ne5,O-O,f3,Nxd2,Bxd2,Nd7,f4,Nf6,cxd5,exd5,Qb3,a5,a4,Ne4,Be1,Qe7,g4,Kh8,g5,Be6,Qh3,Kg8,g6,h6,Bh4,Qc7,Bxe4,dxe4,e3,c5,Rac1,Qb6,d5,Bxd5,Rcd1,Be6,Bg5,Bxe5,fxe5,Rfe8,Rd6,Qc7,Bf4,Qe7,Rfd1,Rad8,Qg3,Rxd6,exd6,Qd7,Be5,Rd8,Bf4,Qxa4,Qe1,Qc2,Qd2,Qxd2,Rxd2,b5,Be5,Rd7,Kf2,a4,Rc2,Bc4,Rd2,Kf8,Bc3,Ke8,Be5,Kd8,h4,Kc8,h5,Kb7', 'Bxg7,Rxg7,d7', 'https://lichess.org/training/BLIC3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BLiuD', 'Blitz', 'achat', 1553, 'Ero1', 1562, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,g6,Nc3,Bg7,Be3,d6,f4,e5,Nxc6,bxc6,f5,Qh4+,g3,Qe7,Qd2,gxf5,exf5,Bxf5,O-O-O,d5,Nxd5,cxd5,Bb5+,Bd7,Qxd5,Rd8,Bc5,Qg5+,Kb1,Nf6,Qd6,Bf8,Bxd7+,Rxd7', 'Qb8+,Rd8,Rxd8#', 'https://lichess.org/training/BLiuD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bljW9', 'Classical', 'meowling', 1834, 'sma1', 1786, 'Nf3,Nc6,e4,e5,Bb5,d6,c3,Nf6,d4,exd4,cxd4,Bd7,Nc3,Qe7,O-O,a6,Bd3,Bg4,Be2,Nxe4,Nd5,Qd7,Ng5,Nxg5,Bxg4,Qd8,Re1+,Ne6,Bxe6,fxe6,Rxe6+,Kf7,Qf3+,Kxe6,Bd2,Kd7,Qg4+,Ke8,Re1+,Ne7,Bg5,Qd7,Qh4,Kf7,Nxe7,Re8', 'Qf4+,Qf5,Qxf5#', 'https://lichess.org/training/bljW9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BLKBM', 'Rapid', 'renevdbosch', 1801, 'Ketze', 1683, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Be2,O-O,Bg5,Nbd7,Nf3,c5,d5,Kh8,O-O,Nh5,Ne1,f6,Be3,e5,Bxh5,gxh5,Qxh5,Rg8,f4,Nf8,fxe5,fxe5,Rf3,Bf6,Nd3', 'Bg4,Qxg4,Rxg4', 'https://lichess.org/training/BLKBM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('blkoH', 'Rapid', 'RedGiraffe', 1622, 'Sr-Opresssor', 1614, 'd4,d6,c4,Nf6,Nc3,c6,e4,Qa5,Bd2,Qb6,Qc2,Qxd4,Nf3,Qc5,Be3,Qh5,Be2,Bg4,Ng5,e5,f3,Be6,f4,Qh4+,g3,Qh6,fxe5,Ng4,Bxg4,Bxg4,O-O,Be6,Nxe6', 'Qxe3+,Kg2,fxe6', 'https://lichess.org/training/blkoH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BLLZv', 'Rapid', 'MaestroBVA', 1970, 'pnkj721', 1855, 'd4,g6,c4,Bg7,Nc3,e6,e4,d5,e5,Nd7,f4,Ne7,Nf3,c5,cxd5,Nxd5,Nxd5,exd5,dxc5,Nxc5,Bb5+,Bd7,Qxd5', 'Qa5+,Kf2,Qxb5', 'https://lichess.org/training/BLLZv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BLmAz', 'Rapid', 'tranh', 1775, 'rageplayer1', 1896, 'd4,d5,Nd2,c5,e3,c4,c3,Nf6,Qc2,g6,e4,e6,e5,Nfd7,Ndf3,Bg7,Bg5,f6,exf6,Bxf6,Bxf6,Nxf6,Nh3,Ne4,Be2,Nc6,O-O,e5,dxe5,Bxh3,gxh3,Qc7,Bxc4,Nxe5,Nxe5,Qxe5,Bb5+,Kd8,f4,Qd6,Rad1,Qc5+,Kh1,Qxb5,Qxe4', 'Qxf1+,Rxf1,dxe4', 'https://lichess.org/training/BLmAz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BlmMj', 'Rapid', 'ExpertSleeper', 1676, 'fprambo', 1753, 'd4,Nf6,Bf4,g6,e3,Bg7,Nc3,O-O,Qd2,d6,h4,Nh5,e4,e5,Bg5,Qd7,g4,Qxg4,Be2,Qg2', 'Bf3,Qxh1,Bxh1', 'https://lichess.org/training/BlmMj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BLPno', 'Rapid', 'srdsosee', 1959, 'BishopPin', 1910, 'd4,g6,c4,Bg7,Nc3,c5,e3,Nf6,Nf3,d6,h3,O-O,Be2,Bf5,O-O,Nc6,d5,Nb8,Nh4,Bc8,e4,e6,Nf3,exd5,exd5,Nfd7,Qb3,Ne5,Be3,b6,Nxe5,Bxe5,Rad1,Bf5,Bf3,Qf6,Ne4,Qh4', 'Bg5,Qxe4,Bxe4', 'https://lichess.org/training/BLPno');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BlqqX', 'Classical', 'ASD1962', 1677, 'giodeme1', 1722, 'e4,e5,f4,exf4,Nf3,g5,h3,Qe7,Nc3,c6,Bc4,Bg7,d4,b5,Bb3,b4,Ne2,h6,e5,d5,exd6,Qxd6,Bc4,Nf6,O-O,Be6,Bxe6,fxe6,Qd3,Nbd7,Qg6+,Kf8,Bd2,c5,Rad1,Nd5,c4,bxc3,bxc3,c4,Rb1,Ne7,Qe4,Kf7,Rb4,Nf6', 'Ne5+,Kg8,Qxa8+', 'https://lichess.org/training/BlqqX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('blrL9', 'Rapid', 'Bo0o', 1988, 'pavel050251', 2004, 'd4,d5,c4,e5,dxe5,d4,Nf3,c5,Na3,b6,g3,Nc6,Bg2,Bb7,Nb5,a6,Bg5,Qd7,Na3,Nge7,h4,Ng6,Bh3,Qc7,e6,f6,Bd2,Nge5,Bf4,Nxf3+,exf3,Bd6,Bxd6,Qxd6,O-O,O-O,f4,Nd8,Re1,Qc6,Kh2,Re8,f5,Qd6,Qd3,Nc6,f4,Nb4,Qd1,Qc6,Nc2,Nxc2,Qxc2,Rad8,Qd3,Qf3,Rad1', 'Qf2+,Bg2,Qxg2#', 'https://lichess.org/training/blrL9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('blRTG', 'Classical', 'bluesky20188', 1929, 'PsychoGandalf', 1989, 'e4,c5,Nf3,Nc6,Bc4,a6,a4,e6,d4,cxd4,Nxd4,Nf6,Nc3,Bb4,Bg5,h6,Nxc6,bxc6,Bxf6,Qxf6,Qd3,Bxc3+,Qxc3,Qxc3+,bxc3,d5,exd5,cxd5,Bd3,Rb8,a5,e5,Kd2,e4,Be2,f5,Rhb1,Rxb1,Rxb1,Ke7,Rb6,Rd8,Bxa6,Bxa6,Rxa6,Rd6,Rxd6,Kxd6,Ke3,Kc6,Kd4,f4,a6,Kb6,Kxd5', 'e3,fxe3,fxe3', 'https://lichess.org/training/blRTG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bLtIu', 'Rapid', 'chizzalr', 1868, 'Cryo426', 1775, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,Nf6,d3,b5,Bb3,h6,Nc3,Bc5,h3,Bb7,Nd5,O-O,Be3,Bxe3,Nxe3,Nd4,Nxd4,exd4,Nf5,c5,O-O,d5,exd5,Nxd5,Bxd5,Bxd5,Re1,Qg5,Ne7+,Kh8,Nxd5,Qxd5,Qg4,f5,Qg6,Rf6,Re8+,Rxe8,Qxe8+,Kh7,b3,Rg6,f3,Qxf3', 'Qxg6+,Kxg6,gxf3', 'https://lichess.org/training/bLtIu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BluQW', 'Rapid', 'MaxBrito', 1760, 'danjunio25', 1698, 'e4,e5,Nf3,Nc6,Bb5,Bd6,O-O,Nf6,Bxc6,bxc6,d4,Be7,dxe5,Nxe4,Re1,Nc5,b4,Ne6,a3,O-O,c4,d5,exd6,cxd6,Bb2,Bf6,Ra2,Be7,Nbd2,Qb6,Ne4,c5,bxc5,dxc5,Qc2,Bb7,Ne5,Rad8,Rb1,Qc7,Ng3,Nd4,Bxd4,cxd4,Ng4,Rc8,h4,Bc5,Qd3,Ba8,h5,Bb6,h6,Qxc4,Qf5,Qxa2,Nf6+,gxf6', 'Qg4+,Kh8,Qg7#', 'https://lichess.org/training/BluQW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('blUUL', 'Blitz', 'topatapa', 1723, 'Tayoke', 1622, 'd4,g6,Qd3,Bg7,Qf3,Nc6,c3,b6,Bg5,Bb7,Qg3,Nf6,Bxf6,Bxf6,e4,O-O,e5,Bg7,h4,d6,h5,dxe5,hxg6,fxg6,Qh3,h5,Qe6+,Rf7,Qxg6,Kf8,Rxh5,exd4,Bc4,Rf6', 'Rh8+,Bxh8,Qg8#', 'https://lichess.org/training/blUUL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bLuzG', 'Rapid', 'waledmustaf44', 1672, 'L_FLASH_O_FORFUN_L', 1650, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,d6,Nd5,Nxe4,d3,Nf6,Nc3,Bd7,Bg5,a6,Bc4,Be7,O-O,Bg4,Qe1,d5,Bb3,Bxf3,gxf3,h6,Bh4,O-O,Kh1,Bd6,Bg3,Nd4,Nxd5,Nxd5,Bxd5,Nxc2,Qe4,Nxa1,Rxa1,c6,Bb3,Qf6,Bc2,g6,Rg1,h5,h4,Rab8,a3,Qf5', 'Qxf5,gxf5,Bxe5+,Kh7,Bxd6', 'https://lichess.org/training/bLuzG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bLVaq', 'Rapid', 'Gabe2', 1808, 'man1025m', 1910, 'e4,e5,Nf3,Nc6,Bb5,Nd4,Nxd4,exd4,d3,a6,Ba4,b5,Bb3,h6,c3,dxc3,Nxc3,Bb4,Bd2,Nf6,a3,Bc5,Rc1,d6,f3,Nh5,f4', 'Qh4+,g3,Nxg3', 'https://lichess.org/training/bLVaq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bLvtu', 'Classical', 'MsConcordia', 1702, 'hayatnurchess2008', 1725, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d4,exd4,cxd4,Bb4+,Bd2,Bxd2+,Nbxd2,O-O,e5,Ng4,h3,Nh6,O-O,d6,d5,Nxe5,Nxe5,dxe5,Re1,Re8,Qb3,Qg5,Nf3,Qg6,Nh4,Qg5,Nf3,Qf4,Bb5,Re7,Rad1,a6,Bf1,e4,Qb4,Nf5,Nd4,Nxd4,Qxd4,Bf5,d6,cxd6,Qxd6,Qg5', 'Qd8+,Re8,Qxg5', 'https://lichess.org/training/bLvtu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bLwDm', 'Rapid', 'Ventl97', 1634, 'Weepy', 1688, 'Nf3,Nf6,d4,d5,Bf4,c5,e3,cxd4,exd4,Nc6,c3,e6,Bb5,a6,Ba4,Qb6,Qd2,Be7,Ne5,O-O,Nxc6,bxc6,O-O,Ne4,Qe2,a5,Bc2,Ba6,Bd3,Bxd3,Qxd3,Qxb2,Nd2,c5,f3,c4,Qe3,Nxc3,Be5,f6,Bg3,Bb4,f4,Ne4,Nxe4,dxe4,Qxe4,Rad8,Qxe6+,Kh8,d5,Bc5+,Kh1,Rfe8,Qc6,Bd4,Rab1,Qxa2,Rb7,Qe2,Rbb1,Qh5,Rb5,Rc8,d6,Rxc6,Rxh5,Rxd6,f5,Rc6,Rh4,Be5,Bxe5,Rxe5,g4,c3,Rc1,c2,Rh3,Rd5,Re3,Rd1+,Kg2,Rd2+,Kf3,h6,g5,Rd1', 'Re8+,Kh7,g6#', 'https://lichess.org/training/bLwDm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BLxxC', 'Rapid', 'magikk', 1940, 'Sddf128', 1948, 'e4,c5,Nf3,d6,Nc3,e6,d4,cxd4,Nxd4,Nf6,Bg5,Be7,Bb5+,Bd7,O-O,Nc6,Nxc6,bxc6,Ba4,O-O,Bxf6,Bxf6,Qxd6,Bxc3,bxc3,Qa5,Bxc6,Bxc6,Qxc6,Rac8,Qb7,Rxc3,Rfc1,Rfc8,Rab1,Qxa2,Ra1,Rxc2', 'Qxc8+,Rxc8,Rxc8#', 'https://lichess.org/training/BLxxC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bLyoF', 'Rapid', 'Viktor_winner75', 1631, 'eugen67', 1614, 'e4,e6,a3,d5,exd5,exd5,Nc3,d4,Qe2+,Be7,Nd5,Be6,Nxe7,Nxe7,Qb5+,c6,Qxb7,Nd7,Nf3,c5,Bb5,O-O,Bxd7,Bxd7,Ne5,Bf5,d3,Ng6,Nc6,Re8+,Kd2,Qg5+,Kd1,Qxg2', 'Ne7+,Rxe7,Qxg2', 'https://lichess.org/training/bLyoF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('blz9W', 'Rapid', 'Ar_chess', 1717, 'saadhajkhaleel', 1693, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bc4,Bb4,d3,Bxc3+,bxc3,d5,exd5,Nxd5,Bxd5,Qxd5,c4,Qe6,O-O,O-O,Re1,Qf6,Bg5,Qg6,Qd2,h6,Bh4,Bg4,Nxe5,Nxe5,Rxe5,f6,Re4', 'Bf3,Bg3,Bxe4', 'https://lichess.org/training/blz9W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bLzda', 'Rapid', 'Andreabeps', 1738, 'fiches', 1749, 'e4,e6,Nf3,d5,exd5,exd5,Bd3,Nf6,O-O,Be7,Ng5,h6,Nf3,Be6,Ne5,Nbd7,Nxd7,Qxd7,Nc3,O-O-O,Nb5,Kb8,Qf3,g5,Qe3,c5,Qe5+,Bd6,Nxd6,Qxd6,Qxf6,c4,Bf5,Rhe8,Bxe6,fxe6,d4,cxd3,cxd3,Rf8,Qxh6,Rh8,Bf4,Qxf4,g3,Qf3,Qxe6,Rxh2,Qe5+,Ka8,Kxh2,a5,Qe3', 'Rh8+,Kg1,Rh1#', 'https://lichess.org/training/bLzda');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('blZQF', 'Rapid', 'marcin222', 1716, 'chessall100', 1717, 'e4,g6,f4,d5,exd5,Qxd5,Nf3,Qe4+,Qe2,Qxc2,Nc3,Qf5,Qb5+,Qd7,Bc4,Qxb5,Nxb5,Kd8,Bxf7,Nf6,Ne5,e6,O-O,Bc5+,d4,Bd6,Nxd6,cxd6,Bxg6,dxe5,fxe5,Nd5,Bg5+,Ne7,Bxe7+,Kxe7,Rf7+,Kd8,Rxh7,Rxh7,Bxh7,Nc6,Rf1,Nxd4', 'Rd1,Bd7,Rxd4', 'https://lichess.org/training/blZQF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bm6A3', 'Blitz', 'materrr', 2133, 'pandemicfreak', 2444, 'e4,g6,d4,Bg7,Nf3,d6,Bf4,Nc6,c3,Nf6,Nbd2,O-O,Bc4,Nxe4,Nxe4,d5,Bxd5,Qxd5,Ned2,e5,dxe5,Nxe5,Bxe5,Bxe5,O-O,Bg7,Qc2,Bf5,Qb3,Rad8,Qxd5,Rxd5,Nb3,b6,Nfd4,Bc8,Nc6,Re8,Rfe1,Be6,Nbd4,a5,a4,Bd7', 'Rxe8+,Bxe8,Ne7+,Kf8,Nxd5', 'https://lichess.org/training/bm6A3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BmA1W', 'Classical', 'yessimus', 1790, 'Rorororororonoa_zoro', 1804, 'e4,e6,d4,d5,exd5,exd5,Nf3,Bd6,Nc3,Be6,Bd3,Nc6,O-O,Nf6,Bg5,h6,Bh4,O-O,Nb5,Be7,Bg3,Re8,Nxc7,Ne4,Bxe4,dxe4,Ne1,Qxd4,Qxd4,Nxd4,Nxa8,Rxa8,b3,Ne2+,Kh1,Nxg3+,hxg3,Bf6,Rc1,Rd8,c4,Bd4,Nc2,Bb6,f3,Rd2,fxe4,Bg4,Nb4,Bc5,Rc2', 'Bxb4,Rxd2,Bxd2', 'https://lichess.org/training/BmA1W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BmAjd', 'Rapid', 'Brotherps2', 1714, 'gouloum', 1651, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,d6,Bf4,Nf6,e5,dxe5,Qxd8+,Kxd8,Bxe5,Be7,Nc3,Re8,O-O-O+,Bd7,Nd5,Nxd5,Rxd5,f6,Bg3,c6,Rd1,Bc5,Bc4,b5,Bb3,Kc8,Rhe1,Rxe1,Rxe1,Kb7,a4,a6,axb5,axb5,Kb1,Bb4,c3,Bf5+,Kc1,Bc5,f3,g6,h3,h5,Bh2,Bf2,Re7+,Kb6,g4,hxg4,hxg4,Bd3,Kd2,Bc4,Bxc4,bxc4,Re2,Bh4,Bg1+,Kb5,Kc2,Bg5,Be3,Bh4,Bf2,Bg5,Re4,Rd8,Rd4,Rh8,Kd1,c5,Re4,Rd8+,Ke1,Rd2', 'f4,Bxf4,Rxf4', 'https://lichess.org/training/BmAjd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bmba0', 'Rapid', 'ancleskruch', 1783, 'redkatBG', 2008, 'd4,d5,c4,Nf6,cxd5,Nxd5,e4,Nf6,Nc3,e6,Nf3,c5,Bb5+,Nc6,d5,exd5,exd5,a6,Ba4,b5,Nxb5,axb5,Bxb5,Qa5+,Bd2,Qxb5,dxc6,Qxc6,O-O,Be7,Ne5,Qd5,Re1,Bb7,Nf3,Qd6,Qe2,Bxf3,Qxf3,O-O,Bf4,Qd7,Rad1,Qa7,Qe3,Rfe8,Qf3,Rad8,Qc6,Rxd1,Rxd1,Qa8,Qb5,Rd8,Re1,Qd5,h3,Bd6,Bg5,Qxg5,Qc6,Qf4,g3,Qd2,Re3,Bxg3,Rxg3,Qd1+,Kh2,Qe2', 'Qxf6,g6,Qxd8+', 'https://lichess.org/training/Bmba0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bMBF1', 'Blitz', 'Sehya', 1533, 'goldeneyeslatino', 1819, 'e4,e5,Nf3,Nc6,Nc3,Nf6,b3,Bc5,Bb2,O-O,h3,d5,exd5,Nxd5,Bc4,Nxc3,Bxc3,e4,Ne5,Nxe5,Bxe5,Re8,Bxf7+,Kxf7,Qh5+,Kg8,Bc3,Bd4,Bxd4,g6,Qc5,b6,Qc4+,Be6,Qc3,c5,Be3,Rf8,O-O-O,a5,Qe5,Bf5,Qg3,a4,Bg5,axb3,Bxd8,bxa2,Bf6,Rxf6,Kb2,b5,Ka1,c4,Qc7,b4,Qxc4+,Kg7,Qxb4,Rff8,Qe7+,Kh6,Qb4,Rfb8,Qd6,e3,fxe3,Bxc2,Rc1', 'Rb1+,Rxb1,axb1=Q#', 'https://lichess.org/training/bMBF1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BmbmC', 'Blitz', 'fbedos', 1717, 'justaz', 1778, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,Nf3,Nbd7,Be2,O-O,O-O,e5,d5,Nc5,Nd2,Ne8,f4,f5,fxe5,dxe5,b4,Na6,a3,c5,b5,Nac7,Nf3,fxe4,Nxe4,Bf5,Nxc5,Rb8,Ra2,b6,Bg5,Qd6,Nb3,e4,Nfd4,Be5,Nxf5,Bxh2+,Kh1,Rxf5,Rxf5,gxf5,Bh6,Qxh6,Bh5,Nf6,g4,Nxh5,Rxh2,Ng3+,Kg2,Qf4,Nd4,e3,gxf5,Nxf5,Nxf5,Qxf5,Rh5,Qf2+,Kh3,e2,Rg5+,Kh8', 'Qa1+,Qf6,Qxf6#', 'https://lichess.org/training/BmbmC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BmDDM', 'Rapid', 'Lbz-Engeln-Hans', 1832, 'Mkolipetr', 1810, 'e4,e5,Nf3,Nf6,Nxe5,Nc6,Nxc6,dxc6,d3,Bc5,Be2,h5,Nc3,Ng4,Bxg4,Bxg4,f3,Be6,Bf4,Qh4+,Bg3,Qf6,Qe2,O-O-O,O-O-O,h4,Bf2,Bxf2,Qxf2,Qe7,Qxa7,Kd7,Qxb7,Rb8,Qa7,Ra8,Qd4+,Kc8,f4,Bxa2,Qxg7,Rd8,Nxa2,Rxa2,Kb1,Qe6,h3,c5,Qg4,Qxg4,hxg4,Ra8,Rxh4,Kd7,Rh7,Ke7,Rdh1,Ra6,Rg7', 'Rda8,Kc1,Ra1+,Kd2,Rxh1', 'https://lichess.org/training/BmDDM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BmeVB', 'Rapid', 'Vovi_Katerinich1989', 1911, 'angry_bear100', 1784, 'e4,e5,f4,d5,exd5,exf4,Nf3,Bg4,Nc3,Bxf3,Qxf3,Qh4+,Qf2,Qxf2+,Kxf2,Bc5+,Kf3,Nf6,Kxf4,O-O,Bc4,c6,dxc6,Nxc6,d3,Rfe8,Bd2,Nh5+,Kg4,Nf6+,Kh4,Ne5,Bb3,Bf2+,g3', 'Nf3+,Kh3,Nxd2', 'https://lichess.org/training/BmeVB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BMflH', 'Rapid', 'superNinja_1', 1920, 'Light_adler7', 1976, 'd4,d5,c4,c6,cxd5,cxd5,Bf4,Bf5,e3,Nf6,Bd3,Bxd3,Qxd3,Nc6,h3,e6,Nc3,a6,a3,Bd6,Bxd6,Qxd6,f4,O-O,Nf3,Ne4,Nxe4,dxe4,Qxe4,f5,Qd3,Rfe8,Ne5,Nxe5,fxe5,Qd5,O-O,Rad8,Rfd1,Rd7,Qc2,Red8,b4,b5,Rac1,Kf7,Qc6,Qb3,Qc3,Qd5,Rd3,Qe4,Rd2,Rd5,Qd3,Rxe5,Qxe4,Rxe4,Kf2,f4,exf4,Rdxd4,Rxd4,Rxd4,Rc6,Rxf4+,Ke3,Rf5,Rxa6,Kf6,Rb6,Re5+,Kf3,Kf5,Rb7,Kf6,h4,h6,g4,g6,Rb8,Rd5,Ke4,Re5+,Kf3,Rd5,Ke4,Re5+,Kd4,Rd5+,Kc3,Re5,Rf8+,Kg7,Rf4,g5,hxg5,hxg5,Rd4,Kf6,Kd3,Rd5,Rxd5', 'exd5,Kd4,Ke6,Kc5,Ke5,a4,bxa4', 'https://lichess.org/training/BMflH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BmGF3', 'Blitz', 'FM masahirobaba', 2425, 'rude1951', 2409, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,Nc3,Qc7,Be3,Nf6,Qd2,Bb4,f3,d5,Nxc6,bxc6,a3,Bd6,g3,Rb8,b3,h5,Bg2,h4,f4,Ng4,Bd4,h3,Bf3,e5,fxe5,Nxe5,Be2,O-O,O-O,Be6,exd5,Bxd5,Nxd5,cxd5,b4,Rbc8,c3,Nc6,Bf2,Ne5,Rac1,Qc6,Bd4,Rce8,Rf5,Ng6,Rcf1,Be5,Bh5,Bxd4+,Qxd4,Rc8,Rxd5,Qxc3,Bxg6,fxg6', 'Rxf8+,Kxf8,Rd8+,Rxd8,Qxc3', 'https://lichess.org/training/BmGF3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bMGt8', 'Rapid', 'Dr_Itachi', 1606, 'DrnorZdz2019', 1654, 'e4,e5,Bc4,Nf6,Nf3,Nc6,Nc3,Bc5,d3,O-O,O-O,d6,h3,a6,Nd5,Nxd5,Bxd5,Ne7,Bc4,b5,Bb3,Bb7,Re1,Ng6,Be3,Bxe3,Rxe3,Nf4,Nh2,Qg5,Rg3,Qe7,Qg4,Ng6,c3,Bc8,Qe2,Nf4,Qd2,c5,d4,c4,Bc2,Rd8,Rd1,Bb7,d5,Bc8,b3,Rb8,Rb1,cxb3,Bxb3,Nh5,Re3,Nf4,Nf3,Qf6,Ne1,Qg6,Rg3,Qh5,Nd3,Ne2+,Kf1,Nxg3+,fxg3,Qg6,Qe3,f5,Nb4,Bd7,Ke2,Kh8,Rf1,Rf8,exf5,Rxf5,Bc2,Qf6,Bxf5,Bxf5,g4,Bxg4+,hxg4,Qg6,Qf3,h6,Nc6,Qc2+,Ke1,Qc1+,Kf2,Qd2+,Qe2', 'Rf8+,Kg3,Qxe2', 'https://lichess.org/training/bMGt8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bMHx3', 'Rapid', 'pall401', 1628, 'esc10', 1641, 'd4,d5,c4,dxc4,Nc3,e6,e3,Nf6,Nf3,g6,Bxc4,Bg7,O-O,O-O,h3,c6,e4,b5,Bd3,Nbd7,e5,Nd5,Nxd5,exd5,Bg5,Qe8,Re1,Nb6,Qd2,Nc4,Bxc4,bxc4,Bh6,a6,Bxg7,Kxg7,b3,a5,bxc4,dxc4,Rac1,Ba6,Qxa5,Bb5,Qd2,Qd8,Re2,c3,Qd1,Bxe2,Qxe2,Qa5,Qc4,Qxa2,Qxc3,Rac8,Ra1,Qd5,Ra5,Qe6,Ra6,h6,Qc5,Rfd8,g4,Rd5,Qc3,Qd7,Kg2,Qb7,Ra2,c5,dxc5,Rcxc5,Qe3,Rxe5,Qd3,Red5,Qe3,Re5,Qd3,Ra5', 'Rxa5,Rxa5,Qc3+,Kh7,Qxa5', 'https://lichess.org/training/bMHx3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BMJ8W', 'Rapid', 'speedex32', 1752, 'sambibo', 1788, 'e4,Nc6,Nf3,e5,Bb5,Qf6,O-O,a5,d4,Nxd4,Nxd4,exd4,e5,Qb6,Bc4,Bc5,Qf3,f6,Bxg8,Rxg8,exf6,gxf6,Re1+,Be7,Qh5+,Kd8,Qxh7,Re8,Nd2,d5,a4,c5,b3,Qd6,Nf3,Bg4,Nxd4,cxd4,Ba3,Qd7,Bxe7+,Rxe7,Qg8+,Re8', 'Rxe8+,Qxe8,Qxg4', 'https://lichess.org/training/BMJ8W');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BMjiR', 'Blitz', 'TheTranssexualEmpire', 1502, 'klaydark', 1599, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Bd7,Nc3,Nc6,Bc4,h6,O-O,Nf6,Re1,Ne5,f4,Nxc4,e5,dxe5,fxe5,Ng8,e6,fxe6,Nxe6,Bxe6,Rxe6+,Be7,Qh5+,Kd7,Qd5+,Kc8,Qxc4,Bf6,Qg4,Kb8,Bf4,Qd7,Rd1,Qf7,Rxf6,Qxf6,Rd8+,Qxd8,Nb5,Nf6,Qxg7,Qd1+,Kf2,Ne4+,Ke3,Rc8', 'Bxc7+,Rxc7,Qxc7#', 'https://lichess.org/training/BMjiR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BmJNE', 'Rapid', 'Saikalyan', 1760, 'Benjamin628', 1659, 'e4,e5,Nf3,Nc6,Nc3,Nf6,Bb5,Bc5,O-O,a6,Bxc6,dxc6,h3,O-O,d3,Re8,Bg5,h6,Bh4,b5,a3,Bb7,Re1,Bb6,Bg3,Qd6,Qd2,c5,Rad1,b4,axb4,cxb4,Na4,Ba7,b3,a5,c3,c5,c4,Rad8,Nb2,Nh5,Bxe5', 'Rxe5,Nxe5,Qxe5', 'https://lichess.org/training/BmJNE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BMJvu', 'Blitz', 'Lucasfff', 1669, 'Qchuro69', 1741, 'e4,d5,exd5,Qxd5,Nc3,Qe6+,Qe2,Nc6,Nf3,f6,d4,Qf7,Bf4,Bg4,Nb5,e5,dxe5,Bxf3,gxf3,O-O-O,exf6,Re8,Bh3+,Kb8,Be3,Nxf6,Bxa7+,Nxa7,O-O-O,Qxa2', 'Qxe8+,Nxe8,Rd8+,Nc8,Rxc8#', 'https://lichess.org/training/BMJvu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BmkfR', 'Rapid', 'e13ment', 1803, 'rustam212', 1831, 'e4,c5,Nf3,e6,c3,Nc6,Bb5,Nf6,d3,Be7,O-O,O-O,Re1,a5,Bxc6,bxc6,d4,Ba6,Nbd2,d5,e5,Ne8,Nf1,g6,Bh6,Ng7,Ng3,Re8,Qd2,c4,Qf4,Bc8,Ng5,Nf5,Nxf5,exf5,e6,Bxg5,exf7+,Kxf7,Bxg5,Qd7,Rxe8,Qxe8,Qc7+,Qd7,Qe5,Qe6,Re1,Bd7,Bh6,Re8', 'Qg7#', 'https://lichess.org/training/BmkfR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bmkib', 'Rapid', 'neros11', 2061, 'Antiinteligentt', 1912, 'e4,c6,d4,d5,exd5,cxd5,c4,Nf6,Nc3,Nc6,Nf3,Bg4,cxd5,Nxd5,Qb3,Bxf3,gxf3,Nb6,d5,Nd4,Bb5+,Nd7,Qa4,Nxf3+,Ke2,Ne5,Bf4,a6,Bxd7+,Nxd7,Rac1,b5,Qd4,Qb6,Qxb6,Nxb6,b3,g6,Be5,f6,Bc7,Nd7,Ne4,Bh6,Rc6,Kf7,f4,f5,Ng5+,Bxg5,fxg5,h6,gxh6,Rxh6,Bf4,Rh4,Kf3,Rh3+,Ke2,Nf6,Rd1,Rd8,Rxa6,Rxd5', 'Rxf6+,exf6,Rxd5', 'https://lichess.org/training/Bmkib');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BmKyO', 'Rapid', 'abs321', 1763, 'CiroBurbano', 1837, 'd4,d6,Bf4,Nf6,e3,g6,Nf3,Bg7,Be2,Nbd7,Ng5,e5,Bc4,O-O,dxe5,dxe5,Bg3,h6,Nf3,Nh5,Nh4,Nxg3,hxg3,e4,Nxg6,Re8,c3,Qf6,Nf4,Nc5,Nh5,Qg6,Nxg7,Kxg7,Qd4+,Kh7,Qxc5,Bg4,Nd2,Rad8,f3,exf3,gxf3,Bxf3,Nxf3', 'Qxg3+,Ke2,Qg2+', 'https://lichess.org/training/BmKyO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bmL3v', 'Rapid', 'MarcoNori', 1708, 'Tommy2901', 1870, 'c4,d5,cxd5,Qxd5,Nc3,Qd8,e3,e5,d4,exd4,Qxd4,Nc6,Qxd8+,Nxd8,Bd2,Nc6,O-O-O,Be6,Bb5,Ne7,Kb1,O-O-O,Nf3,g6,h3,Bg7,Ng5,Rd6,Nxe6,fxe6,Ne4,Rd5,Bc4,Re5,f3,b5,Bb3,b4,a3,a5,axb4,axb4,Ba4,Kb7,b3,Nd5,Rc1,Na5,Nc5+,Kb6,Nd7+,Ka7,Nxe5,Bxe5,f4,Bg7,Rc5,Kb6,Rb5+,Ka6,Rc5,Kb6,Rhc1,Bc3,R5xc3,bxc3,Bxc3,Nxc3+,Rxc3,c5,g3,Rd8,Kc2,Nc6,Bxc6,Kxc6,Rd3,Ra8,e4,Ra2+,Kc3,Re2,e5,Rh2,Rd6+,Kb5,Rxe6,Rxh3,Rd6,Rxg3+,Rd3,Rxd3+,Kxd3,h5,e6', 'Kc6,e7,Kd7', 'https://lichess.org/training/bmL3v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BmLFX', 'Rapid', 'prinz1001', 2288, 'supermaster2507', 2283, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,c3,Bg4,Qb3,Qc7,Ne2,Bxe2,Bxe2,e6,Nd2,Nc6,Nf3,Bd6,Bg5,O-O,Bh4,Ne4,Bg3,a6,Bd3,f5,Bxd6,Nxd6,O-O,b5,a4,Na5,Qd1,Nac4,b3,Nb2,Qc2,Nxd3,Qxd3,Ne4,Rfc1,bxa4,Rxa4,a5,c4,Rfc8,Ne5,Rab8,Rca1,dxc4,bxc4,Nd6,Rxa5,Nxc4,Rc5,Nxe5,Rxe5,Qc1+,Re1,Qc6,Ra6,Qd7,h3,Rc6,g3,Rd8,Rxc6,Qxc6,Qb3,Qd5,Qxd5,Rxd5,Rxe6,Rxd4,Re7,Rd5,Kg2,h6,h4,h5,Kf3,Kh7,Kf4,Kg6,Re6+,Kh7,Re5,Rd2,f3,g6,Kg5,Rd3', 'Re7+,Kg8,Kxg6', 'https://lichess.org/training/BmLFX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bMlGF', 'Classical', 'T-A-M', 1883, 'Fercorral', 1858, 'e4,c6,d4,d5,exd5,cxd5,Bg5,h6,Bh4,Qa5+,c3,e6,Nf3,Be7,Bxe7,Nxe7,Bd3,O-O,O-O,Qb6,Na3,Qxb2,Nb5,Na6,Qa4,Bd7,Rab1,Bxb5,Bxb5,Qxc3,Rfc1,Nc5,dxc5,Qf6,c6,bxc6,Bxc6,Rac8,Bb7', 'Rxc1+,Rxc1,Qb2', 'https://lichess.org/training/bMlGF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bMLTo', 'Rapid', 'whizz319', 2030, 'bang_Didi', 1983, 'e4,c5,c3,e6,d4,d5,exd5,exd5,Nf3,Nc6,Be3,cxd4,Nxd4,Nf6,Bb5,Bd7,O-O,Bd6,Nd2,a6,Ba4,O-O,Bc2,Bxh2+,Kxh2,Ng4+,Kg3,Qc7+,f4,Nxe3,Bxh7+,Kxh7,Rh1+,Kg8,Qh5,f6,Qh7+,Kf7,Qh5+,Kg8,Qh7+,Kf7,Qh5+,Ke7,Rae1,Nxd4,Rxe3+,Ne6,Qf3,Rh8,Rhe1,Kf7,Kf2,Rae8,Qxd5,Qxf4+,Nf3,Bc6,Qb3,Bxf3,Rxf3,Qh4+,Ke2,Re7,Kd1,Rd8+,Ke2,b5,Re3,Qg4+,Kf1,Rd2,R1e2,Rxe2,Rxe2,Qf4+,Ke1,Qg3+,Kd2,Qg5+,Kd1,Qg4,Kd2,Rd7+,Ke1,Qg3+,Kf1,Qd3,Qxe6+,Kg6,Qg4+,Kh7,Qh5+,Kg8,Qe8+,Kh7,Qh5+,Kg8,Kf2,g6,Qg4,Kg7,g3,f5,Qg5,Qd6,Qe3,a5,Qe8,Qb6+,Kg2,Rf7,Qe5+,Rf6,Qe7+,Kh6,Qe3+,g5,Qxb6,Rxb6,Kf3,Kg6,Re5,Kf6,Rd5,Ke6,Rd8,b4,c4,Rd6,Ra8,g4+,Ke2,Rc6,b3,Rc5,Ra6+,Ke5,Ke3,f4+,gxf4+,Kf5,Ra8,Rc7,Rg8,Re7+,Kf2,Kxf4,Rf8+,Ke4,Rg8,Kd3,Rxg4,Kc2,Kf3,Kb2,Rg2+,Ka3,Kf4,Rc7,Rd2,a4,Ke5', 'axb3,axb3,Kxb3', 'https://lichess.org/training/bMLTo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bMLX9', 'Blitz', 'robwc7', 1746, 'kegi', 2044, 'e4,c5,Nc3,Nc6,Nf3,g6,d4,cxd4,Nxd4,Bg7,Nxc6,bxc6,Bd2,e6,Bd3,Ne7,Bg5,O-O,O-O,d5,exd5,cxd5,Re1,Rb8,Rb1,h6,Bh4,Kh7,Nxd5,Qxd5,Bxe7,Re8,Ba3,Bb7,f3,Red8,b3,Bd4+,Kh1,Bb6,Bb2,Bd4,Be4,Qd7,Bxd4,Qxd4,Qxd4,Rxd4,Bxb7,Rxb7,Rbd1,Rbd7,Rxd4,Rxd4,Rc1,Rd2,a4,Kg7,h3,Kf6,c4,Rd3,Rb1,Rc3,Kg1,Ke5,Kf2,Kd4,Kg3,Kc5,Kf4,f6,h4,e5+,Ke4,Kd6,g4,Ke6,f4', 'f5+,gxf5+,gxf5#', 'https://lichess.org/training/bMLX9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bMNFw', 'Rapid', 'xxqiooipxx', 1724, 'Bluegirl', 1878, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,d6,c3,Qb6,Qb3,Nxd4,Qxb6,Nc2+,Kd2,axb6,Kxc2,Bd7,Be3,b5,Nd2,Nf6,f3,e6,Nb3,Be7,g4,O-O,g5,Ne8,h4,f6,f4,fxg5,fxg5,Bc6,Bd3,Rf3,Bd2,Nc7,Nd4,Rf2,Rh3,e5,Nf5,Bf8,h5,Bd7,g6,h6,a3,Ne6,Rf1,Rxf1,Bxf1,Nc5,Bd3,Bc6,Re3,Ne6,Rf3,Ra4,b3,Rxa3,Kb2,Ra8,c4,Nc5,cxb5', 'Nxd3+,Rxd3,Bxe4,Nxh6+,gxh6', 'https://lichess.org/training/bMNFw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BmOrh', 'Rapid', 'TaRaceTopain', 1644, 'snegi', 1847, 'd4,g6,c4,Bg7,e3,Nf6,Nf3,d5,Nc3,c6,a3,O-O,h3,dxc4,Bxc4,b5,Be2,Nbd7,O-O,Nb6,Bd3,Bd7,b4,Qc8,Kh2,Qc7+,Kh1,Nfd5,Nxd5,Nxd5,Bb2,Rfe8,Ne5,Bc8,Rc1,Bb7,Qf3,f6,Ng4,Qd6,e4,Nb6,e5,fxe5,dxe5,Qe6,Rcd1,Rf8,Qg3,Nd5,Rfe1,Rad8,Be4,Bc8,Bxd5,cxd5,f4,Qf5,Bc1,e6,Ne3,Qf7,Qf3,Qxf4,Qxf4,Rxf4,Nxd5,Rc4', 'Ne7+,Kf7,Rxd8', 'https://lichess.org/training/BmOrh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BmpbZ', 'Rapid', 'ritschie', 1640, 'Napon', 1612, 'e4,e5,Nf3,Nc6,Bc4,d6,a4,Qe7,d3,Be6,Nbd2,Bxc4,Nxc4,Nf6,c3,g6,b4,Bg7,a5,O-O,b5,Nb8,Be3,c6,b6,a6,Rc1,Nbd7,d4,Rad8,Nfd2,c5,d5,Ng4,O-O,f5,h3,Nxe3,fxe3,fxe4,Nxe4,Nf6,Ng5,Nh5,Ne6,Rxf1+,Qxf1,Re8,Qd3,Bf6,e4,Ng7,Rf1,Nxe6,dxe6,Rd8,Qd5,Qf8,Ne3,Qe7,Ng4,Rf8,Nxf6+,Kg7,Ng4,h5,Rxf8,Kxf8,Ne3,Kg7,Nc4,Qg5,Qxb7+,Kh6,Qf7,Qc1+,Qf1,Qxc3,Nxd6,Qd4+,Kh2,Qxd6,Qf6,c4,Qh8+,Kg5,Qe8,c3,Qd7,Qf8,Qd3,Qf4+,Qg3+,Qxg3+,Kxg3,c2,e7,c1=Q,e8=Q', 'Qf4#', 'https://lichess.org/training/BmpbZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BmQJZ', 'Rapid', 'momo_klaus', 2000, 'chrigi', 1988, 'e4,c6,d4,d5,exd5,cxd5,Nf3,Nf6,c4,Nc6,Nc3,e6,c5,Be7,Bd3,O-O,Be3,b6,Bb5,Bd7,Bxc6,Bxc6,b4,bxc5,bxc5,Qa5,Qd2,Ne4', 'Nxe4,Qxd2+,Nexd2', 'https://lichess.org/training/BmQJZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bMRpa', 'Blitz', 'DrJamal', 1853, 'aythmar', 1563, 'b3,g6,Bb2,Nf6,Nc3,Bg7,e3,d6,f4,Bg4,Be2,Qd7,h3,Bxe2,Qxe2,Nc6,O-O-O,a5,g4,Nb4,g5,Ng8,Na4,Bxb2+,Kxb2,Qc6,d4,Qxh1,Qb5+,Nc6,Qxb7,Rb8,Qxc7,Rd8,Nb6,e6,d5,exd5,Qxc6+,Kf8,Nd7+,Rxd7,Qxd7,Qe4,Qxd6+,Kg7,Qe5+,Qxe5+,fxe5,Ne7,c4,dxc4,bxc4,Rb8+,Ka3,Rb4,Rd7,Nc8,Rc7', 'Nb6,Nf3,Nxc4+,Rxc4,Rxc4', 'https://lichess.org/training/bMRpa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bmrW0', 'Rapid', 'derroger', 1674, 'Moshin007', 1800, 'e4,c5,Nf3,d6,Bc4,Nf6,d4,Nxe4,O-O,cxd4,Qxd4,Nf6,Re1,e6,Bg5,Nc6,Qc3,Be7,Nbd2,O-O,Rad1,Qd7,Bb5,Qc7,Nc4,a6,Bxc6,Qxc6,Nd4,Qc7,h3,b5,Nd2,Qxc3,bxc3,Bb7,c4,bxc4,Nxc4,Bd5,Nb6,Ra7,Nxd5,Nxd5,Nc6,Rc7,Nxe7+,Nxe7,Rd2,d5,Rb1,Nc6,Rb6,Ra8,Bf4,Rcc8,c3,a5,Rdb2,e5,Be3,Rab8,g4,a4,Kg2,g6', 'Rxc6,Rxb2,Rxc8+', 'https://lichess.org/training/bmrW0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BmS0d', 'Classical', 'jiperseo-col', 1814, 'KIKG2019', 1847, 'd4,d5,f4,a6,Nf3,Bg4,e3,c6,g3,e6,Bg2,Nf6,c3,Ne4,Nbd2,Be7,O-O,h5,Qb3,Qc7,Ne5,Nd7,Nxg4,hxg4,Nxe4,dxe4,Bxe4,Nf6,Qc2,Nxe4,Qxe4,O-O-O,f5,Rh6,Qxg4,Rdh8,Rf2,exf5,Qxf5+,Kb8,e4,Rxh2,Rxh2,Qxg3+,Rg2', 'Qe1+,Qf1,Rh1+,Kxh1,Qxf1+', 'https://lichess.org/training/BmS0d');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bMSs7', 'Rapid', 'astrolabe33', 1734, 'chunchocampeon', 1681, 'e4,g6,d4,Bg7,e5,d6,f4,e6,Nf3,Ne7,Nc3,O-O,g4,a6,h4,b5,h5,f5,hxg6,Nxg6,gxf5,Rxf5,Ng5,h6,Qh5,Nxf4,Bxf4,Rxf4,Rg1,hxg5,Rxg5,Rf5,Rxf5,exf5,O-O-O,Qf8,a4,dxe5,Bg2,c6,Rg1,Ra7,Nd5,Be6,Rh1,Bxd5,Bxd5+,cxd5,Qh7+,Kf7,Qxf5+,Kg8', 'Qh7+,Kf7,Rf1+,Ke7,Rxf8', 'https://lichess.org/training/bMSs7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bMsza', 'Rapid', 'Phanatic13', 1808, 'meks88', 1746, 'e4,d5,exd5,Qxd5,Nc3,Qd8,Nf3,Nf6,d4,Bg4,Be2,e6,h3,Bh5,O-O,Be7,Ne5,Bxe2,Nxe2,Nc6,Nxc6,bxc6,c3,c5,Bf4,O-O,Qa4,cxd4,cxd4,Nd5,Rad1,c5,dxc5,Bxc5,Qc2,f5,Be5,Bd6,Bd4,e5,Bc3,f4,Rxd5,f3,Ng3,fxg2,Kxg2,Rc8,Rdd1,h5,Ne4,Qh4,Rxd6,Rc4,Ng3,e4,Rg6,Rc7,Nxe4,Rcf7,Qb3', 'Qxe4+,Kh2,Qxg6,Rg1,Qd6+', 'https://lichess.org/training/bMsza');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bmure', 'Classical', 'ClubBacau0735520875', 1980, 'Super-StepaN', 1878, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,c4,c5,cxd5,Nxd5,Bc4,Nb6,Bxf7+,Kxf7,O-O,Be7,Ne5+,Kf8,Qh5,Qe8,Qf3+,Bf6,Re1,cxd4,Bg5,N8d7,Nd3,Qf7,Bf4,Be7,Nd2,Nd5,Nc4,Nxf4,Nxf4,Bg5,Ne6+,Kg8,Qd5,Be7,Nd6,Bxd6,Qxd6,h6,Nc7,Rb8,Re8+,Kh7,Rae1,Rxe8,Rxe8,Qxa2,h3,Qb1+,Kh2,Qg6', 'Rh8+,Kxh8,Qxg6', 'https://lichess.org/training/Bmure');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bMVN3', 'Rapid', 'architect01', 1626, 'IShouldBeWriting', 1630, 'e4,e6,f4,d6,Nf3,Nd7,Bb5,c6,Ba4,b5,Bb3,Ba6,d3,Ne7,O-O,Qb6+,Kh1,h6,a4,b4,Nbd2,Nc5,Nc4,Qc7,e5,Nf5,d4,Nxb3,cxb3,d5,Nd6+,Bxd6,exd6,Qxd6,Re1,O-O,g4,Ne7,Qc2,Ng6,Ne5,Nxe5,fxe5,Qe7,Rg1,Bb7,Be3,f5', 'gxf5,Rxf5,Bxh6', 'https://lichess.org/training/bMVN3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BMVyg', 'Rapid', 'jthurman', 1790, 'Falc14', 1695, 'e4,b6,Bc4,Bb7,Nf3,e6,d3,Nf6,Bg5,Be7,Nbd2,d5,Bb3,dxe4,Ne5,exd3,cxd3,Qd6,Ndc4,Qb4+,Bd2,Qc5,O-O,Nbd7,Nxd7,Nxd7,Be3,Qd5,f3,Bc5,Bxc5,Qxc5+,Kh1,Qh5,Ne3,O-O,a3,Rfd8,Qe2,Nc5,Bc2,Ba6,Rad1,Qg6,Nc4,Qh5,Ne5,f6,Nc6,Rd6,b4,Rxc6,bxc5,Qxc5,Rc1,Qf5,Bb3,Rxc1', 'Bxe6+,Kf8,Bxf5', 'https://lichess.org/training/BMVyg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BmXcO', 'Rapid', 'Felipe1211', 1634, 'IamGM133', 1600, 'e4,d6,Nf3,e6,d4,f6,c4,e5,dxe5,dxe5,Qxd8+,Kxd8,Be3,b6,Nbd2,c5,O-O-O,g5,h4,g4,Nh2,h5,Be2,Ke7,f3,f5,fxg4,fxg4,Ndf1,Be6,Bg5+,Kf7,Ne3,Be7,Rhf1+,Ke8,Nd5,Bxd5,cxd5,Bxg5+,hxg5,Nd7,d6,Rd8,Bb5,Ra8,Rf5,Kd8,Bxd7,Kxd7,Rf7+,Ke8,Rg7,Kf8,Rc7,a6,d7,Rd8,Rc8,Ke7,Rc6,Rxd7,Rxb6,Rxd1+,Kxd1,Kd7,Rxa6,Ne7,Nf1,Nc6,Ne3,Rg8,a4,Rxg5,Nd5,h4,Rb6,h3,gxh3,gxh3,Rb7+,Kd6,Rh7,Rg4', 'Rh6+,Kd7,Nf6+', 'https://lichess.org/training/BmXcO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bMyZx', 'Rapid', 'flurix', 1843, 'chess495', 1850, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Qa5+,Nc3,Nf6,Bd2,Nxd4,Ne2,Qb6,Be3,Qa5+,Bd2,Qe5,Bc3,Nxe4,Bxd4,Qa5+,Nc3,e5,Qe2,d5,Bxe5,Bb4,f3,Nxc3,Bxc3+,Be6', 'Qb5+,Qxb5,Bxb5+', 'https://lichess.org/training/bMyZx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bmZaI', 'Rapid', 'PandaPr', 1658, 'Trabizontsi', 1933, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,dxc6,Qxd8+,Kxd8,Bc4,Be6,Nd2,Ke7,Bxe6,Kxe6,Nb3,Be7,Bd2,Nf6,O-O,Rhd8,f4,Nxe4,f5+,Kf6,Bc3+,Nxc3,bxc3,b6,g4,Bc5+,Nxc5,bxc5,Rab1,Rd2,Rf2,Rad8,h4,Rd1+,Rxd1,Rxd1+,Kg2,Ra1,g5+,Ke7,f6+,gxf6,Rxf6,Rxa2,Rh6,Rxc2+,Kf1,a5,Rxh7,a4,g6,Kf8,Rxf7+,Kg8,Rxc7', 'a3,h5,a2', 'https://lichess.org/training/bmZaI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bN0sp', 'Blitz', 'Hyponomic', 1706, 'DanielFdelPino', 1710, 'e4,e5,Bc4,Nc6,Nc3,Nf6,d3,Bc5,f4,d6,fxe5,dxe5,Nf3,Bg4,Bd2,Nd4,Rf1,a6,h3,Bh5,Qc1,Nxf3+,gxf3,b5,Bb3,Bb6,Nd5,Nxd5,Bxd5,c6,Bxc6+,Ke7,Bb4+,Ke6,f4,Rc8,f5+,Kf6,h4,h6,Bd2,Ba5,c3,Rxc6', 'Bg5+,hxg5,Qxg5#', 'https://lichess.org/training/bN0sp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bn2Ke', 'Blitz', 'gracjan17', 2450, 'IM Mischuk_D', 2554, 'c4,e6,Nc3,d5,d4,c6,e4,Bb4,cxd5,exd5,e5,Bf5,Bd3,Bxd3,Qxd3,Ne7,f4,Qd7,Ne2,Qf5,Qxf5,Nxf5,g4,Nh4,Kf2,Nd7,Kg3,Ng6,f5,Ne7,a3,Ba5,Nf4,Bc7,Re1,O-O-O,b3,Kb8,a4,Rde8,Ba3,Nc8,Kf3,a5,h4,Bb6,Rad1,h6,e6,fxe6,Nxe6,Rhg8,g5,hxg5,hxg5,Ka7,Kg4,Kb8,Re2,Bc7,Rh1,Bd6,Bxd6+,Nxd6,Rh7,Re7,Reh2,Rf7,Rh8,Rxh8,Rxh8+,Ka7,Rd8,Nxf5,Ne2,Ne3+,Kg3,Re7,N2f4,Nb6,g6,Nc2,Kh4,Na1,Kg5,Nxb3,Rg8,Nxa4,Rxg7,Re8,Nc7,Rc8,Rf7,Nb6,g7,Rg8,Ng6,a4,Ne7,Rxg7+,Rxg7,a3,Kf5,a2,Rg1,a1=Q,Rxa1+,Nxa1,Ke5,Nb3,Ne6,Nc4+,Kf4,Kb6,Nc8+,Ka5,Kf3,Nb6,Nd6,Ka6,Ke2,Nc4,Nc8,Na3,Kd3,Nb5,Ne7,Na5,Nc8,Nc4,Nc5+,Ka5,Ne7,b6', 'Nxc6#', 'https://lichess.org/training/Bn2Ke');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BN2Mf', 'Rapid', 'Squareeyes', 1816, 'adityasaxena1003', 1983, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,Nc3,Nc6,Be3,Nf6,Bb5,a6,Bxc6,bxc6,O-O,O-O,Nf3,d5,exd5,cxd5,Qd2,e6,Bh6,Qb6,Bxg7,Kxg7,Rab1,Bb7,Rfe1,Rfc8,Qe3,Qxe3,Rxe3,Rab8,Rbe1,Bc6,b3,Rd8,Nd4,Bb7,Na4,Nd7,c3,Rbc8,Rc1,Bc6,Nxc6,Rxc6,h3,Rdc8,Re2,Nf6,f3,Nh5,Kf2,Nf4,Rd2,Kf8,Kg3,Nh5+,Kf2,Ke7,g4,Nf6,Kg3,Nd7,Rcd1,Nc5,Nxc5,Rxc5,c4,dxc4,Rd7+,Kf8,bxc4,Rxc4,Ra7,Ra4', 'Rdd7,h5,Rxf7+', 'https://lichess.org/training/BN2Mf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bn3Nb', 'Rapid', 'Animalski', 1804, 'bauke777', 1850, 'e4,c5,Nf3,Nc6,d4,e6,d5,exd5,exd5,Nb4,a3,Qa5,Bd2,Qa4,Nc3', 'Nxc2+,Qxc2,Qxc2', 'https://lichess.org/training/Bn3Nb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bN5Cw', 'Blitz', 'Helembara', 1795, 'crippa', 1613, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Na5,Bb3,Nxb3,axb3,Nxd5,d3,Bd6,Qf3,Nf6,O-O,h6,Ne4,Nxe4,dxe4,O-O,Qg3,Qf6,Nc3,c6,Be3,b6,Kh1,h5,h4,Be7,Bg5,Qe6,f4,f6,f5,Qf7,Be3,Kh8,Rf3,Rg8,Qf2,g6,Rg3,gxf5,Rxg8+,Qxg8,exf5,Bb7,Ne4,Qg4,Rf1,Rg8,g3,Qxe4+,Kh2,c5,Qe2,Rg4,Rf2,Rxh4+,gxh4', 'Qxh4+,Kg1,Qh1#', 'https://lichess.org/training/bN5Cw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bn6CI', 'Rapid', 'alnayf', 2058, 'LDSawesome', 2043, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,O-O,Nf6,d3,Bc5,Bg5,Qe7,Nbd2,h6,Bxf6,Qxf6,Nc4,Bd6,Nxd6+,cxd6,d4,Bg4,dxe5,dxe5,Qe2,O-O,Rad1,Rad8,h3,Bxf3,Qxf3,Qxf3,gxf3,Rd4,Rd3,Rfd8,Rfd1,g6,Kf1,f5,exf5,gxf5,Ke2,Kf7,f4,Re4+,Kf1,Rxd3,Rxd3,exf4,Rd7+,Re7,Rd6,Re6,Rd7+,Re7,Rd4,f3,Rf4,Re2,Rxf5+,Kg6,Rxf3,Rxc2,Rb3,b5,Rc3,Rxc3,bxc3,Kf5,Ke2,c5,Ke3,c4,a3,h5,f4,h4,Kf3,a5,Ke3,b4,axb4,a4,b5', 'a3,b6,a2,b7,a1=Q,b8=Q,Qxc3+', 'https://lichess.org/training/Bn6CI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bn9mk', 'Blitz', 'kvyas', 1647, 'shandar', 1635, 'd4,d5,Nf3,Nc6,g3,Bg4,Bg2,Bxf3,Bxf3,e6,O-O,Bd6,Bf4,f6,Bxd6,Qxd6,Nc3,O-O-O,e3,Nge7,a4,e5,dxe5,fxe5,a5,e4,Be2,a6,Na2,g6,c3,h5,Qd2,h4,Nb4,hxg3,fxg3,Nf5,Bg4,Kb8,Bxf5,gxf5,Rxf5,Qh6,Nxc6+,bxc6,Rf4,Rdg8,b4,Rxg3+,hxg3', 'Qh1+,Kf2,Rh2#', 'https://lichess.org/training/Bn9mk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BNArK', 'Rapid', 'mumia50', 1926, 'sergiolana', 1928, 'd4,g6,g3,Bg7,Bg2,e6,Nf3,Ne7,O-O,c6,Re1,b6,e4,Bb7,c3,d5,e5,O-O,Bg5,Nd7,Nbd2,Bc8,Rb1,h6,Bxe7,Qxe7,Nh4,Kh7,f4,f6,Nhf3,Rg8,exf6,Nxf6,Ne5,Bd7,Nxd7,Qxd7,Nf3,Rae8,Bh3,Ne4,Nd2,g5,Nxe4,dxe4,Rxe4,gxf4,Rxf4,Qd5,b3,e5,Rf5,Rh8,Qh5,Rhf8,Bg2,Qe6,Bh3,exd4', 'Rxf8,Qe3+,Rf2', 'https://lichess.org/training/BNArK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BnCTM', 'Rapid', 'shinsV', 1703, 'Steinitz46', 1694, 'e4,c5,Nc3,Nc6,Nf3,g6,Bc4,Bg7,Ng5,e6,Qf3,Qxg5,d4,Qe7,Nb5,Qd8,e5,Nxd4', 'Nd6+,Ke7,Qxf7#', 'https://lichess.org/training/BnCTM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BnD9u', 'Rapid', 'erbiesol', 1611, 'sarveshchess', 1697, 'e4,Nf6,Nc3,e5,Nf3,Nc6,Bc4,d6,Nd5,Be7,a3,O-O,O-O,Bg4,h3,Bxf3,Qxf3,Nd4,Qd1,b5,Ba2,c6,Nxf6+,Bxf6,c3,Ne6,d3,a5,b4,a4,Be3,Bg5,Qe2,Rc8,c4,Nd4,Bxd4,exd4,f4,Bh6,Qh5,bxc4,Bxc4,c5,Kh1,cxb4,axb4,Ra8,Bd5,Ra7,b5,a3,Ra2,Qa5,Bc4,Qc3,g4,Bxf4,Rxf4', 'Qc1+,Kg2,Qxf4', 'https://lichess.org/training/BnD9u');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bndcI', 'Rapid', 'ezatfoda', 1780, 'HarryUno', 2107, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,a3,Nc6,Be3,g6,f3,Bg7,Bc4,Bd7,O-O,O-O,Ba2,Rc8,Nd5,Nxd5,Bxd5,Nxd4,Bxd4,Bxd4+,Qxd4,Rxc2,Rac1,Qc8,Bxb7,Qc7,Rxc2,Qxc2,Bxa6,Be6,Bd3,Qd2,Qc3,Qe3+,Kh1', 'Rc8,Qe1,Qxd3', 'https://lichess.org/training/bndcI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BnDmv', 'Classical', 'Mi16', 1879, 'beinoni', 1608, 'd4,d5,Bf4,Nc6,Nf3,Bf5,c3,Nf6,e3,e6,Nbd2,Be7,h3,O-O,Nh4,a6,Nxf5,exf5,Bd3,Qd7,Qc2,Ne4,f3,Bh4+,Ke2,Nf2,Bxf5,Qe7,Rhf1,b5,Rxf2,Bxf2,Kxf2,b4,Bxh7+,Kh8,cxb4,Nxb4,Qxc7,Qh4+,g3,Qxh7,Qc3,Nd3+,Kg2,Rac8,Qb3,Rc1,Rxc1,Nxc1,Qxd5,Qc2,e4,Qd1,Qc4,f6,Qxa6,Re8,g4,Ne2,Be3,Qe1,Nb3', 'Qg3+,Kf1,Qxf3+', 'https://lichess.org/training/BnDmv');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bNdqR', 'Rapid', 'Santiago52', 1676, 'Queen27a', 1673, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nxe5,Nf6,Qf3,Bg4,Qb3,b5,Nxc6,Qd6,e5', 'Qxc6', 'https://lichess.org/training/bNdqR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BndWV', 'Rapid', 'ATS012', 1685, 'Ga-Wa', 1685, 'e4,c5,Nf3,Nc6,Bc4,e6,a3,d5,exd5,exd5,Ba2,Nf6,O-O,Bg4,h3,Bh5,Nc3,Be7,Qe2,Nd4,Qd3,Nxf3+,gxf3,c4,Qf5,O-O,d3,b5,Nxb5,Bg6,Qf4,cxd3,cxd3,Bxd3,Rd1,Bxb5,Qe3,Qd7,Qg5,Qxh3,Re1,Bd6,Bf4,Bxf4,Qxf4,Rad8,a4,Bc6,Rec1,Bb7,Rc7,Rd7,Rxd7,Nxd7,Qg4,Qxg4+,fxg4,Ne5,Kg2,Nxg4,Rc1,Nf6,Rc7,Rb8,Kg3,Ne4+,Kg2,d4,Rxf7,Ng5+', 'Rxb7+,Kf8,Rxb8+', 'https://lichess.org/training/BndWV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bNE6v', 'Rapid', 'bams', 1723, 'guillaumeg', 1902, 'd4,d5,c4,dxc4,e4,e5,d5,Nf6,Nc3,b5,Nf3,b4,Qa4+,Bd7,Nb5,Nxe4,Nxe5,a6,Bxc4,Nc5,Qa5,Bxb5', 'Bxb5+,axb5,Qxa8', 'https://lichess.org/training/bNE6v');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BNeFU', 'Rapid', 'Voin55115', 2037, 'FM AyrtonSenna', 2163, 'd4,Nf6,Bf4,e6,e3,b6,Nd2,Bb7,Ngf3,Be7,Bd3,d5,Ne5,O-O,g4,c5,c3,Nbd7,g5,Ne4,h4,f6,gxf6,Bxf6,Qc2,Bxe5,dxe5,Nxd2,Bxh7+,Kh8,Kxd2,d4,Be4,Nxe5,Bxe5', 'Rxf2+,Kc1,Rxc2+', 'https://lichess.org/training/BNeFU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bNEJ5', 'Blitz', 'entity1', 1536, 'RightWhite', 1511, 'e4,e5,Nc3,Nc6,Bc4,Nd4,Nf3,d6,Ng5,Be6,Nxe6,fxe6,O-O,Qf6,Nb5,Qe7,Nxd4,exd4,c3,dxc3,bxc3,O-O-O,d4,Nf6,Re1,g5,Bxg5,h6,Bxf6,Qxf6,Qb3,Re8,e5,Qf4,exd6,Bxd6,Bxe6+,Kd8,Qxb7', 'Qxh2+,Kf1,Qh1+,Ke2,Rxe6+,Kd3,Rxe1,Rxe1,Qxe1', 'https://lichess.org/training/bNEJ5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bngOg', 'Rapid', 'fabios', 2068, 'LifeOfRyan', 2098, 'd4,Nf6,Nf3,e6,Bg5,Be7,e3,d5,Bd3,O-O,Nbd2,c5,c4,b6,O-O,dxc4,Nxc4,Bb7,dxc5,Bxc5,Qb3,Bxf3,gxf3,Nbd7,Rad1,Qc7,Bf4,Qc8,Rc1,Nd5,Nd6,Qd8,Nb7,Qf6,Nxc5,Nxf4,Nxd7', 'Qg5+,Kh1,Qg2#', 'https://lichess.org/training/bngOg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bngvC', 'Rapid', 'maillon', 1894, 'MotorStrong1', 1920, 'd4,d5,e4,dxe4,f3,Nf6,fxe4,Nxe4,Qd3,Bf5,Qe3,e6,Bd3,Qh4+,g3,Qf6', 'Bxe4,Bxe4,Qxe4', 'https://lichess.org/training/bngvC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bniWF', 'Blitz', 'Palaka', 1741, 'EmilStenstrom', 1706, 'e4,d5,e5,Nc6,d4,Bf5,f4,e6,c3,g5,fxg5,Be7,h4,h6,Nf3,hxg5,Nxg5,f6,Nf3,fxe5,dxe5,Bg4,Be2,Bxf3,Bxf3,Bxh4+,Ke2,Nxe5,Qd4,Qf6,Bf4,Nxf3,gxf3,c5,Qa4+,b5,Qxb5+,Kf8,Qxc5+,Ne7,Bd6,Kf7,Nd2,Bg5,Bxe7,Qxe7,Qxe7+,Kxe7,Rag1,Bf4,Rg7+,Kf6,Rhg1,Rab8,Nb3,Rh2+,Kd3,Rxb2,R1g6+,Kf5', 'Nd4+,Ke5,Rxe6#', 'https://lichess.org/training/bniWF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BNjRJ', 'Blitz', 'mon35', 1700, 'One_Gideone', 1671, 'e4,e5,g3,Nc6,Bg2,d6,Nc3,Nf6,Nge2,Be7,O-O,O-O,d4,exd4,Nxd4,Nxd4,Qxd4,Nh5,a4,Bf6,Qd3,g6,Nd5,c6,Nxf6+,Qxf6,Bd2,Be6,Bc3,Qe7,Rfe1,a6,e5,Rfd8,Qd4,d5,Bb4,Qe8,Bd6,Ng7,Qb6,Nf5,Qxb7,Nxd6,exd6,Rxd6,Qb4,Qd7,Qf4,Bf5,c3,Rb8,b4,d4,Red1,d3,Ra2,Rd8,Rad2,Re6,Bf3,Rde8,Kg2,Re1,Rxe1', 'Bh3+,Kg1,Rxe1#', 'https://lichess.org/training/BNjRJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BNKO7', 'Rapid', 'bitter6290', 1702, 'mishasak', 1731, 'd4,d5,c4,Nf6,cxd5,Nxd5,Nf3,e6,e4,Nf6,Nc3,Be7,Bc4,b6,O-O,Nbd7,Re1,Bb7,Bf4,O-O,Qd2,c5,dxc5,Bxc5,Rad1,Ng4,Bg5,f6,Bxe6+,Kh8,Bxg4,fxg5,Bxd7,Qf6,Nxg5', 'Bxf2+,Kh1,Bxe1,Qxe1,Qxg5', 'https://lichess.org/training/BNKO7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bNL1n', 'Blitz', 'Swingcheck', 2074, 'Nafie_Kaja', 2007, 'Nf3,d5,g3,Bf5,Bg2,Nf6,d3,e6,Nbd2,c6,Nh4,Bg6,O-O,Bd6,Re1,Nbd7,e4,dxe4,Nxg6,hxg6,dxe4,Ne5,f4,Neg4,Nf1,Bc5+,Be3,Nxe3,Nxe3,Ng4,Qxg4,Qd2,Qf3,O-O-O,Kh1,Qb4,c3,Qxb2,Nc4', 'Rxh2+,Kxh2,Rh8+,Qh5,Rxh5#', 'https://lichess.org/training/bNL1n');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bNL5q', 'Rapid', 'Mohammed58', 1980, 'HS22', 2015, 'd4,d5,c4,dxc4,e4,e6,Bxc4,Bb4+,Nc3,Nf6,Bg5,Nbd7,e5,h6,exf6,hxg5,fxg7,Rg8,Nf3,Qf6,O-O,Bxc3,bxc3,Qxg7,Bb5,a6,Bxd7+,Bxd7,Ne5,O-O-O,Qf3,f6,Nxd7,Rxd7,Rab1,c6,Qe3,Rd6,c4,Rh8,c5,Qh7,h3,Rd5,Qxe6+,Kb8,Qxc6,Rxd4,Qxf6,Rg4,Qe5+,Ka8,Rxb7,Qxh3,Qd5', 'Qh1#', 'https://lichess.org/training/bNL5q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bNMia', 'Rapid', 'sandrusa123', 1781, 'Adi6', 1759, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,c4,Qd6,d4,Nc6,Nf3,Bg4,Be3,e5,d5,Na5,Qa4+,c6,Qxa5,b6,Qd2,Qf6,Be2,a5,Bxb6', 'Bb4,Bxa5,Bxd2+', 'https://lichess.org/training/bNMia');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bnmTx', 'Blitz', 'kingsley2015', 1738, 'cat_litter', 1722, 'e4,c5,c4,d6,Nf3,e6,d4,cxd4,Nxd4,a6,Nc3,Nf6,Bd2,Be7,Qc2,Nc6,Nxc6,bxc6,O-O-O,Qc7,f4,Bb7,Be2,O-O,Rhf1,d5,e5,Ne4,Nxe4,dxe4,Qxe4,c5,Qc2,Rab8,Bc3,Bc6,g4,Qb7,b3,Be4,Bd3,Bxd3,Qxd3,Rbd8,Qc2,a5,Rxd8,Rxd8,Rd1,Ra8,a4,Rb8,Kb2,Qf3,Bxa5,Qxf4,Bc7,Rc8,Bd6,Bd8,h3,h6,Rd2,Bg5,Rf2,Qd4+,Ka3', 'Qa1+,Qa2,Bc1+,Rb2,Bxb2#', 'https://lichess.org/training/bnmTx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bnn73', 'Rapid', 'mxt', 1730, 'basayus88', 1739, 'e4,e5,Bc4,Nc6,d3,Bc5,Nf3,Nf6,Bg5,h6,Bh4,g5,Bg3,d6,h3,Be6,Nfd2,a6,Nc3,Qd7,O-O,Bd4,Qf3,Qe7,Nd5,Bxd5,exd5,Nb4,c3,Nxd3,Bxd3,Ba7,Nb3,O-O-O,Rae1,Kb8,Nd4,Nd7,Nf5,Qf8,Kh1,h5,h4,g4,Qd1,Nf6,Qb3,Ka8,Qc4,Rd7,b4,Qb8,b5,a5,a4,Bc5,f3,gxf3,Rxf3,Qg8,Bf2,Rd8,Bxc5,dxc5,Qxc5,Kb8,b6,Rc8,Ne7,Qf8,Nxc8,Qxc5,Rxf6,Kxc8,Bf5+,Kb8,bxc7+,Kxc7,d6+,Kb6,d7+,Ka7,Rd1,Qe7,Rfd6,Rd8,R6d5,f6,Rxa5+,Kb8,Rdd5,Qa3,Rac5', 'Qc1+,Kh2,Qf4+', 'https://lichess.org/training/bnn73');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bNNbV', 'Rapid', 'Paul_Bishop', 1848, 'joseigal', 1914, 'd4,Nf6,c4,e6,Nc3,Bb4,Bg5,h6,Bh4,d5,cxd5,exd5,e3,O-O,Bd3,c5,Ne2,Nc6,O-O,cxd4,exd4,Be7,f4,Bg4,h3,Bxe2,Nxe2,Qb6,Kh1,Ne4,Bxe7,Nxe7,f5,Nc6,f6,g6,Qc1,Kh7,Rf4,Nxd4,Rh4,h5,Bxe4,Nxe2,Rxh5+,Kg8,Qh6', 'Ng3+,Kh2,Nxh5', 'https://lichess.org/training/bNNbV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BNneR', 'Classical', 'TreyHardee', 1882, 'Kordi50', 1786, 'c4,e6,d4,d6,Nc3,Be7,e4,c6,Nf3,d5,exd5,cxd5,cxd5,exd5,Qb3,Nf6,Bg5,Nbd7,Bb5,O-O,Bxd7,Qxd7,Bxf6,Bxf6,Qxd5,Qxd5,Nxd5,Bd8,O-O,Be6,Nc3,Ba5,Rfe1,Rad8,Rad1,Bg4,d5,Rd6,Rd3,Rfd8,Red1,Bf5,R3d2,Bg4,h3,Bxf3,gxf3,Kf8,Rd3,a6,Ne4,Rg6+,Kh2,Bc7+,d6,Bb8,Rb3,Bxd6+,Nxd6,Rgxd6,Rxd6,Rxd6,Rxb7,g6,Kg3,h5,h4,Rd4,Ra7,Ra4,a3,Kg7,f4,Kf6,f3,Ke6,Rb7,f5,Rb6+,Kf7,Rc6,Kg7,Rb6,Ra5,Rb4,Rd5,Ra4,a5,Rc4,Kf6,Rc3,Ke6,b3,Kd6,Rc8,Kd7,Rg8,Rd6,Ra8,Rd3,Rxa5,Rxb3,Ra6,Ke7,Rxg6,Rxa3,Rg5,Kf6,Rxh5,Ra1,Rh8,Rg1+,Kf2,Rh1,h5,Kg7,Re8,Rxh5,Ke3,Kf7,Re5,Kf6,Kd4,Rh8,Kd5,Rd8+,Kc6,Rd3,Kc5', 'Rxf3,Re8,Rxf4', 'https://lichess.org/training/BNneR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bnNHa', 'Rapid', 'joelx', 1702, 'notarealbanana', 1750, 'e4,c5,d4,cxd4,c3,Nc6,Bc4,dxc3,Nf3,Nf6,Nxc3,g6,O-O,Bg7,Bf4,O-O,Nb5,d6,e5,Nh5,Qd2,Nxf4,Qxf4,dxe5,Qg3,a6,Nc3,Qa5,Rfe1,Qc5,Bb3,b5,Rac1,Qb6', 'Nd5,Qd8,Rxc6', 'https://lichess.org/training/bnNHa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bnNkx', 'Classical', 'Zeomg79', 1935, 'anchukly', 1856, 'd4,d5,c4,e6,Nf3,Nf6,g3,c6,Bg2,Bd6,O-O,O-O,Qc2,Nbd7,b3,b6,Bb2,Ba6,Nbd2,c5,Rfe1,Rc8,e4,dxe4,Ng5,cxd4,Ngxe4,Nxe4,Nxe4,Bb4,Red1,e5,a3,Be7,Qe2,Nc5,Nxc5,Rxc5,f4,f6,Qh5,Qe8,Bd5+,Kh8,Qf3,Rc7,Rf1,Bc5,Kh1,Re7,Rae1,Bc8,f5,Qd7,b4,Bd6,Qh5,Qe8,Qh3,Qd7,Re4,Bb7', 'Qxh7+,Kxh7,Rh4#', 'https://lichess.org/training/bnNkx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bnnMH', 'Blitz', 'mihailsushkov', 1927, 'Mapel_Pikhalovich', 2185, 'e4,c5,Nf3,g6,d4,cxd4,Nxd4,Bg7,c4,Nc6,Be3,Nf6,Nc3,Ng4,Nxc6,Nxe3,Nxd8,Nxd1,Rxd1,Kxd8,Rd3,b6,g3,Bb7,Bg2,f5,O-O,Bxc3,Rxc3,fxe4,Re3,Rc8,b3,e6,Bxe4,Bxe4,Rxe4,Ke7,Rd1,Rc5,f4,Rd8,Kf2,b5,cxb5,Rc2+,Re2,Rc5,a4,Rc3,Re3,Rc7,Kf3,d5,Red3,Rd6,g4,Kf6,h4,Rc2,R1d2,Rc7,Rd1,h6,Re1,d4,Re4,Rc3,Rxc3,dxc3,Re3', 'c2,Rc3,Rd3+,Rxd3,c1=Q', 'https://lichess.org/training/bnnMH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BNnSl', 'Blitz', 'IM Lefleau', 2128, 'pheldda', 2017, 'e4,c5,Nf3,d6,d4,cxd4,Bc4,Nf6,Qe2,Nc6,O-O,e5,Ng5,d5,exd5,Nxd5,Nxf7,Kxf7,Qf3+,Qf6,Bxd5+,Be6,Bxc6,bxc6,Qxc6,Be7,f4,Rhc8,Qa4,Bc4,Rf3,e4,Rg3,a6,Nd2,Bb5,Qb3+,Kf8,Nxe4,Qc6,Ng5,Bc4,Qf3,Bd5,Nxh7+,Kg8,Qh5,Bf7,Qh3,Qxc2,Qg4,Qxh7,f5,Bf6,Bg5,Bxg5,Qxg5,Rc6,f6,g6', 'Rh3,Qxh3,gxh3', 'https://lichess.org/training/BNnSl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bNntY', 'Classical', 'LuitjenJan', 1707, 'shyam4321', 1687, 'd4,g6,Bf4,Bg7,e3,a6,Nf3,Nf6,c4,d6,Nbd2,O-O,Bd3,Bd7,b3,c5,d5,Nh5,Bg5,Bxa1,Qxa1,f6,Bh6,Ng7,Ne4,Bf5,Nfg5,Nd7,f4,Bxe4,Bxe4,Qe8,Ne6,Qf7,Nxg7,b5,Ne6,Rfb8,g4,Nf8,Nxf8,Rxf8,g5,fxg5,fxg5', 'Qf2+,Kd1,Qf1+,Rxf1,Rxf1+,Kc2,Rxa1', 'https://lichess.org/training/bNntY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BnOke', 'Classical', 'MSalinas', 1686, 'BMJohnSwan', 1951, 'd4,d5,Nf3,Nf6,c4,c6,g3,e6,Bg2,Be7,O-O,O-O,Nc3,Nbd7,b3,b6,Re1,Ne4,Nxe4,dxe4,Nd2,f5,f3,Nf6,fxe4', 'Qxd4+,e3,Qxa1', 'https://lichess.org/training/BnOke');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bNpKz', 'Rapid', 'Tallnicke', 2359, 'divenire_16', 2321, 'd4,Nf6,c4,e6,Nc3,Bb4,e3,Bxc3+,bxc3,d6,Bd3,c5,Ne2,b6,e4,Bb7,d5,Nbd7,f4,O-O,O-O,exd5,cxd5,Re8,Ng3,c4,Bc2,Nc5,Qf3,Qe7,Ba3,Ncxe4,Rfe1,Bxd5,Rad1,Rad8,Rxd5,Ng5,fxg5', 'Qxe1+,Nf1,Nxd5', 'https://lichess.org/training/bNpKz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bNQoJ', 'Classical', 'ihsansari80', 1792, 'pandiony', 1756, 'e4,d5,exd5,Nf6,Nc3,Nxd5,d4,Nxc3,bxc3,e6,Bb5+,c6,Ba4,b5,Bb3,Be7,a4,a6,axb5,cxb5,Nf3,Bb7,Qd3,O-O,O-O,Nd7,Be3,Nf6,Bg5,Rc8,c4,Be4,Qe2,Bxf3,Qxf3,bxc4,Ba2,Qxd4,c3,Qg4', 'Qxg4,Nxg4,Bxe7', 'https://lichess.org/training/bNQoJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bNR95', 'Classical', 'UditVyas', 1719, 'kachess960', 1774, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Bc4,Nf6,d3,c6,Nf3,Bg4,Be3,e6,Qe2,Nbd7,O-O-O,Be7,h3,Bh5,g4,Bg6,Bf4,Nb6,Bb3,Nbd5,Bg3,Nxc3,bxc3,Qxc3,Bxe6,fxe6,Qxe6,Qc5,Rde1,Kf8,d4,Qa3+,Kd1,Re8,Ne5,Bb4,Nd7+,Nxd7,Qxd7,Bxe1', 'Bd6+,Qxd6,Qxd6+', 'https://lichess.org/training/bNR95');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bNron', 'Rapid', 'mortalkombatzazi', 1837, 'Prometeo88', 1810, 'e4,e5,Nf3,d6,Bc4,Be6,Be2,Qd7,c3,f6,O-O,Ne7,d4,exd4,cxd4,Ng6,Nc3,Be7,Nd2,Nf4,g3,Nxe2+,Qxe2,a6,f4,b5,f5,Bf7,Nf3,Bc4,Qf2,Bxf1,Qxf1,O-O,Bf4,b4,Nd5,Ra7,e5,dxe5,Nxe7+,Qxe7,dxe5,fxe5,Nxe5,Rxf5,Qc4+,Kh8,Re1,Nd7', 'Ng6+,hxg6,Rxe7', 'https://lichess.org/training/bNron');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bnRsR', 'Rapid', 'Mrozek1', 1655, 'E4clabase', 1646, 'e4,e5,f4,exf4,Qf3,Qh4+,g3,fxg3,hxg3,Qf6,c3,Bd6,g4,Qxf3,Nxf3,Bg3+,Kd1,Nf6,Rg1,Nxe4,d3,Nf2+,Ke2,Nxd3,Kxd3,Bd6,Be3,O-O,Nbd2,b6,b4,Bb7,Nc4,Bxf3,Nxd6,cxd6,c4,Nc6,Kc3,Rfe8,Bf4,Re6,Bd3,Rae8,Bf5,Rf6,Rae1,Rxe1,Rxe1,g6,Bg5,Rxf5,gxf5,gxf5,Bf4,d5,cxd5,Bxd5,b5,Na5,Re8+,Kg7,a4,Be6,Ra8,Nb7,Rxa7,Nc5,a5,bxa5,Rxa5,h5,b6,Nb7,Ra7,Nd8,b7,Nc6,b8=Q,Nxb8,Bxb8,Kg6,Bf4,h4,Ra1,Kh5,Rg1,h3,Kd3,Bd5,Bh2,Bg2,Ke3,Kg4,Be5,d5,Bf4', 'd4+,Kf2,Kxf4', 'https://lichess.org/training/bnRsR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bnrTl', 'Blitz', 'Rajacatur5971', 2012, 'OASIS1989', 1912, 'e4,e6,d4,d5,e5,c5,c3,Qb6,Nf3,Bd7,a3,Bb5,c4,Bxc4,Bxc4,dxc4,Nc3,Nc6,d5,exd5,Nxd5,Qd8,Bg5,Be7,O-O,Bxg5,Nxg5,Nge7,Qh5,g6', 'Nf6+,Kf8,Qh6#', 'https://lichess.org/training/bnrTl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bNShU', 'Classical', 'gadirotbert', 1651, 'pleaseChooseUserName', 1687, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,Nc6,d4,Nf6,Bg5,Be7,c3,O-O,Ne2,Bg4,O-O,Re8,Qd3,Bd6,f3,Bh5,Bxd5,Bxh2+,Kxh2,Qxd5,Bxf6,Qd6+,Ng3,Qxf6,Nxh5,Qh4+,Kg1,Qxh5,Kf2,Qh4+,Kg1,Re6,Nd2,Rh6,Qe4,Qh2+,Kf2,Rg6,Rg1,Qg3+,Kf1,Kf8,Re1,Re6,Qb1,Rae8,Ne4,Qh4,g3,Qh3+,Kf2,h6,Qc1,R6e7,a4,f5,Rh1,Qxh1,Rxh1,fxe4,fxe4,Rxe4,Kf3,Re3+,Kg4,R8e4+,Kh3,Na5,Rf1+,Kg8,Qd1,Re2,b4,g5,g4', 'R4e3+,Rf3,Rxf3#', 'https://lichess.org/training/bNShU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BNTuQ', 'Rapid', 'KebabDealer', 1767, 'jupiterwho', 1780, 'e4,e5,Nf3,Nf6,Bc4,Nxe4,d3,Nd6,Nxe5,Qe7,O-O,Nc6,Nxc6,bxc6,Re1,Qxe1+,Qxe1+,Be7,Bg5,f6,Be3,Nf5,Nc3,d5,Bb3,O-O,Ba4,Bb7,Qd2,Nxe3,Qxe3,Bd6,Re1,Rfe8,Qd2,Re5,Rxe5,fxe5,Qg5,Rf8,h3,Bc5,Qxe5,Rxf2,Kh1', 'Rf1+,Kh2,Bd6', 'https://lichess.org/training/BNTuQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bnuAw', 'Rapid', 'Zahurul', 1773, 'HumbleFrench', 1730, 'e4,d5,Nc3,d4,Nce2,e5,d3,c5,c3,Nf6,h3,Nc6,cxd4,Nxd4,Nxd4,cxd4,g3,Bb4+,Bd2,Qa5,Nf3,O-O,Bg2,Bxd2+,Nxd2,Bd7,O-O,Bb5,Nb3,Qc7,Rc1,Qb6,f4,exf4,Rxf4,Qd6,Qe2,g6,e5,Rfe8,Rxf6', 'Qxf6,exf6,Rxe2', 'https://lichess.org/training/bnuAw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BNv4R', 'Rapid', 'Assis49', 1862, 'RIS2', 1735, 'd4,g6,c4,d5,e3,b6,Nf3,Bb7,cxd5,Bxd5,Nc3,e6,Nxd5,exd5,Bb5+,c6,Ba4,b5,Bb3,a5,a4,b4,Bd2,Nf6,O-O,Bd6,Rc1,g5,Ne5,h5,Nxc6,Nxc6,Rxc6,Qd7,Rc1,Ng4,h3,Nh2,Kh1,g4,Qc2,O-O,Qc6', 'Qxc6,Rxc6,Nxf1', 'https://lichess.org/training/BNv4R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BnVNi', 'Blitz', 'aligole123', 1645, 'kreiked', 1660, 'e4,d5,exd5,Qxd5,Nc3,Qd8,d4,Nf6,Nf3,Bf5,Bd3,Bxd3,Qxd3,e6,Qb5+,Nbd7,Qxb7,Bd6,O-O,O-O,Qa6,c5,Qxd6,cxd4,Qxd4,Qc7,Bg5,Rad8,Bxf6,Nxf6,Qh4,h6,Rad1,Rb8,Rb1,Rfd8,Qg3,Qc4,Ne5,Qa6,Qf3,Rd2,Rfc1,Rbd8,Nd3,Qb6,Qf4,R8xd3,cxd3,Rxb2,Qc4', 'Qxf2+,Kh1,Qxg2#', 'https://lichess.org/training/BnVNi');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bNxhN', 'Blitz', 'FM Ward-Tsh', 2426, 'khojayan-vardan', 2505, 'e4,c5,Nc3,a6,Nf3,b5,d4,cxd4,Nxd4,Bb7,Bd3,d6,Be3,e5,Nf5,g6,Ng3,Bg7,O-O,Nd7,Nd5,Ngf6,f4,Nxd5,exd5,f5,fxe5,dxe5,Nxf5,gxf5,Qh5+,Ke7,Rxf5,Kd6,Qf7,Qe7,Qh5,Raf8,c4,bxc4,Bxc4,Rxf5,Qxf5,Rf8,Qd3,Qh4,Bxa6,Bxd5,Qa3+,Ke6,Rd1,Qe4,Rxd5,Qxd5,Qa4,Nc5,Qg4+,Kd6,Bc4,Qe4', 'Bxc5+,Kxc5,Qxe4', 'https://lichess.org/training/bNxhN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BNy3F', 'Rapid', 'thekillingjoke', 1644, 'adolf_anderssen', 1649, 'e4,e5,Nf3,Nc6,Bc4,h6,d4,exd4,Nxd4,Nxd4,Qxd4,b6,b3,Bc5,Qd5,Qf6,Be3,Ne7,Qxa8,Qxa1,O-O,Bxe3,fxe3,Qxa2,Bxf7+,Kd8,e5,Nc6,e6,Qa6,exd7,Kxd7,Rd1+,Ke7,Bd5,Rf8,Qxc6,Qe2,Qxc7+,Bd7,Qe5+,Kd8,Nc3', 'Qf2+,Kh1,Qf1+,Rxf1,Rxf1#', 'https://lichess.org/training/BNy3F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bNZdF', 'Blitz', 'IM walaasarwat', 2368, 'coughart', 2204, 'e4,c6,d4,d5,f3,dxe4,fxe4,e5,Nf3,Bg4,Bc4,Nd7,O-O,Ngf6,c3,Bd6,Qb3,O-O,Qxb7,exd4,Qxc6,Nb6,Ba6,dxc3,Nxc3,Qe7,Bg5,h6,Bxf6,Qxf6,Rad1', 'Bxh2+,Nxh2,Qxc6', 'https://lichess.org/training/bNZdF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bo1GZ', 'Rapid', 'E-Gayret', 1934, 'PJ046', 1874, 'e4,Nc6,d4,e5,d5,Nce7,Nf3,Ng6,Nc3,Bc5,Be2,Nf6,Be3,Bb4,O-O,Bxc3,bxc3,Nxe4,Bd3,Nxc3,Qd2,Nxd5,Bxg6,Nxe3,Bxf7+,Kxf7,Nxe5+,Kg8,fxe3,d6', 'Qd5+,Be6,Qxe6#', 'https://lichess.org/training/bo1GZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BO61r', 'Blitz', 'icsk', 1618, 'chess_daus', 1649, 'd4,d6,c4,Nf6,Nc3,g6,e4,Bg7,Nf3,O-O,Be2,Nbd7,Be3,c5,e5,Ng4,Bf4,dxe5,dxe5,Ngxe5,Ne4,Nxf3+,Bxf3,Bxb2,Rb1,Bd4,O-O,Nf6,Bh6,Re8,Ng5,e5,Rb3,Rb8,Rd3,Bf5,Ra3,a6,Qe2,e4,Nxe4,Nxe4,Bxe4,Bxe4,Qg4,Bf5,Qf4,Be5,Qc1,Qh4,h3,Qf6,Bg5,Qe6,Rf3,Bd4,Qa3,Qxc4,Rxf5,gxf5,Qg3,Rbc8', 'Bf6+,Kf8,Qg7#', 'https://lichess.org/training/BO61r');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bo6cp', 'Blitz', 'bkplay', 1671, 'Seehbboy', 1628, 'e4,c5,f4,Nc6,Nf3,e6,Bc4,d5,exd5,exd5,Bb5,a6,Bxc6+,bxc6,O-O,Nf6,b3,Bd6,Bb2,O-O,Ng5,Bg4,Qe1,Re8,Qh4,d4,d3,Qe7,Nd2,Qe3+,Qf2,Qxf2+,Rxf2,h6,Nge4,Nxe4,Nxe4,Be7,h3,Bf5,g4,Bxe4,dxe4,Bh4,Re2,g5,f5,Re5,Ba3,Rae8,Rd1,Rxe4,Rxe4,Rxe4,Bxc5,Re2,Rxd4', 'Bf2+,Kf1,Bxd4,Kxe2,Bxc5', 'https://lichess.org/training/bo6cp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bo7L5', 'Bullet', 'Misk123', 2317, 'IM Alex_Ivanov', 2333, 'Nf3,d5,g3,h5,Bg2,h4,Nxh4,Rxh4,gxh4,e5,h5,Be6,e3,Nc6,d4,Qh4,c3,O-O-O,Bf3,Nf6,Nd2,e4,Be2,Ng4,Bxg4,Bxg4,Qa4,Rd6,Nf1,Rf6,Ng3,Bd6,Bd2,Rxf2,Kxf2,Qf6+,Ke1,Qf3,Rg1', 'Bxg3+,Rxg3,Qe2#', 'https://lichess.org/training/bo7L5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bo83O', 'Blitz', 'williamvalas', 2516, 'CM LUDVIG_CARLSSON', 2509, 'e4,e5,Nf3,Nf6,Nxe5,d6,Nf3,Nxe4,d4,d5,Bd3,Bd6,O-O,O-O,Re1,Bf5,c4,c6,Qc2,Na6,a3,Bg6,Nc3,Nxc3,Qxc3,Bxd3,Qxd3,dxc4,Qxc4,Nc7,Bg5,Qd7,Ne5,Qf5,Bh4,Nd5,Bg3,Rfe8,Qb3,Rab8,Rad1,Re7,Nf3,Bxg3,hxg3,Qd7,Rxe7,Nxe7,Re1,Qd5,Qa4,Nf5,Qxa7,Qd8,Qc5,g6,a4,b6,Qxc6,Nxd4,Nxd4,Qxd4,b3,b5,Re8+,Rxe8', 'Qxe8+,Kg7,Qxb5', 'https://lichess.org/training/bo83O');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bo8NW', 'Rapid', 'BigAndrews', 1761, 'esoj', 1686, 'e4,e5,Nf3,Nc6,Bc4,h6,d3,Bc5,Nc3,d6,O-O,Bg4,Na4,Nd4,Nxc5,Bxf3,gxf3,dxc5,c3,Nc6,Qb3,Qe7', 'Qxb7,Rb8,Qxc6+', 'https://lichess.org/training/Bo8NW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BO9Nn', 'Rapid', 'adechess', 1838, 'calogrenant', 1911, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,a6,Bc4,e6,O-O,Be7,b3,b5,Be2,Bb7,Bf3,Nf6,Nd2,O-O,Bb2,Nbd7,Re1,Ne5,h3,Rc8,c3,Nd3,Qb1,Nxe1,Qxe1,Re8,Rc1,d5,e5,Nd7,a4,Bg5,axb5,Nc5,bxa6,Bxa6,Rb1,Bxd2,Qxd2,Bd3,Rd1,Be4,b4,Bxf3,Nxf3,Ne4,Qd3,Qc7,Rc1,Qb6,Nd4,Rc4,f3,Ng3,Kh2,Rxd4,cxd4,Nf5,b5,Rb8,Qc3,h6,g4,Qxb5,gxf5', 'Qe2+,Kg1,Rxb2,Qxb2,Qxb2', 'https://lichess.org/training/BO9Nn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BoAfS', 'Blitz', 'kateroner', 1800, 'elemis', 1832, 'e4,d5,exd5,Nf6,Nc3,Nxd5,d4,Nxc3,bxc3,e5,Nf3,e4,Qe2,Qe7,Nd2,Bf5,f3,exf3,Qxe7+,Bxe7,Nxf3,Bxc2,Bc4,Nc6,Bf4,Bd6,Bxd6,cxd6,Rc1,Bg6,O-O,O-O,h4,Rfe8,Ng5,Re7,g4,h6,h5,hxg5,hxg6,Rf8,Kg2,Nd8,Rf2,Ne6,gxf7+,Rfxf7,Rxf7,Kxf7,Rf1+,Kg6', 'Bd3+,Kh6,Rh1#', 'https://lichess.org/training/BoAfS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('boAGI', 'Blitz', 'H45M1', 2219, 'Gombrovic39', 2310, 'e4,c5,Nf3,e6,g3,Nc6,Bg2,d6,O-O,Nf6,Re1,Be7,d3,O-O,Nbd2,Rb8,h4,b5,c3,a5,Nf1,b4,Bg5,bxc3,bxc3,Ne5,Ne3,Ba6,Nxe5,dxe5,Bf1,Qc7,Rb1,Rfd8,Qc2,h6,Bxf6,Bxf6,Rxb8,Rxb8,Rb1,Rd8,c4,Be7,Qa4,g6,Nc2,Bc8,Na3,Bd7,Qb3,Bc6,Be2,f5,Qb6,Qd7,exf5,gxf5,Qxa5,f4,Qc3,fxg3,fxg3,e4,dxe4,Bxe4,Rd1,Qc7,Rxd8+,Bxd8,Nb5,Qc6,Qd2,Bf6,Qxh6,Bg7,Qg5,Qd7,h5,Kh8,h6,Bd4+,Kh2,Qf7,Qf4,Qg6,Nxd4,cxd4,Qf8+,Kh7,Qg7+,Qxg7,hxg7,Kxg7,Kg1,Kf6,Kf2,e5,a4,Bc6,a5,e4,a6,Ke5,a7,e3+,Ke1,Ke4,Bd1,d3,g4,Kf4,Bb3,Kxg4,c5,Kf3,Bd1+,Ke4,Ba4,Ba8,c6,d2+', 'Ke2,Kf4,c7,Bf3+,Kd3', 'https://lichess.org/training/boAGI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BODcV', 'Rapid', 'azrielcpm', 1708, 'giannis5', 1651, 'e4,d5,exd5,Qxd5,d4,Qd6,Nf3,Nf6,g3,Nc6,Bg2,Bg4,c3,O-O-O,Nbd2,e5,dxe5,Nxe5,Qc2,Re8,O-O,Qd5,Re1', 'Nxf3+,Nxf3,Bxf3,Rxe8+,Nxe8', 'https://lichess.org/training/BODcV');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BoeRN', 'Rapid', 'Anonwizen', 834, 'sandmann1984', 918, 'd4,d5,c4,e6,Nf3,Bb4+,Nbd2,Nc6,a3,Ba5,b4,Bb6,Ne5,Nxe5,c5,Bxc5,dxc5,Nf6,Bb2,Nc6,Nf3,O-O,h4,e5,a4,Nxb4,Qb3,a5,Rc1,Bg4,Nxe5,Ne4,c6,Qf6,cxb7,Nxf2,bxa8=Q,Rxa8,Nd7,Qf4,Be5,Qxc1+,Kxf2,f6,Bxf6,gxf6,Nxf6+,Kf7,Nxg4,c5,Qf3+,Ke7,Ne5', 'Rf8,Qxf8+,Kxf8', 'https://lichess.org/training/BoeRN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BOetf', 'Classical', 'alfil_h4', 1777, 'viox75', 1781, 'e4,e5,Nf3,Nc6,Bc4,Nf6,Ng5,d5,exd5,Nd4,d6,Ne6,dxc7,Qd6,Nxe6,Bxe6,Bxe6,Qxe6,Qf3,e4,Qf4,Bd6,Qg5,Bxc7,Qxg7,Rg8,Qh6,Rxg2,Nc3,O-O-O,Nb5,Bb6,Rf1,Rxf2,Rxf2,Bxf2+,Kf1,Rg8,Qf4,Bb6,Ke2,Qc4+,d3,exd3+,cxd3,Rg2+,Ke1,Qxd3,Nd6+,Kd7,Qf5+,Qxf5,Nxf5,Rxh2,Kd1,Ke6,Ng3,Rg2,Ne2,Nd5,a4,a5,Ra3,Rh2,Rb3,Rh4,Nf4+,Nxf4,Rxb6+,Kf5,Rb5+,Ke4,Bd2,Rh5,Rxb7,f5,Re7+,Kf3,Kc2,Rh2,Re5,Kg4,Rxa5,h5,b4,h4,Kc3,h3,Re5,Ne2+,Kd3,Rg2,Rxe2', 'Rxe2,Kxe2,h2', 'https://lichess.org/training/BOetf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BoF5t', 'Classical', 'PsytrancePosition', 2116, 'Lvovich', 2054, 'e4,e6,d4,d5,Nd2,Nf6,e5,Nfd7,Ngf3,c5,c3,Nc6,Bd3,a6,O-O,c4,Bc2,b5,Re1,Be7,Nf1,a5,a3,Bb7,Bf4,b4,axb4,axb4,Qd2,bxc3,bxc3,O-O,Rxa8,Bxa8,Ne3,Na5,Ng4,Nb3,Qe3,Bc6,Ng5,h5,Bh7+,Kh8,Nxf7+,Rxf7,Bg6,Rxf4,Qxf4,hxg4,Qxg4,Nf8', 'Qh5+,Kg8,Bf7#', 'https://lichess.org/training/BoF5t');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bogXg', 'Blitz', 'AndresF1212', 2240, 'FM Rufy64', 2407, 'e4,c6,c4,d5,cxd5,cxd5,e5,Nc6,d4,Bf5,Be3,e6,Bd3,b6,Bxf5,exf5,Nf3,Rc8,O-O,Nge7,a3,Ng6,Qd2,Be7,g3,O-O,Nc3,Re8,b4,Nf8,Rfc1,Qd7,Ne1,Ne6,f4,h6,Nf3,a6,Na4,Ncxd4,Bxd4,Qxa4,Bxb6,Rxc1+,Qxc1,Qb5,Bf2,a5,bxa5,Qxa5,Qd2,Qa6,Qxd5,Rd8,Qa2,Qd3,Kg2,Rc8,Qd2,Qb3,Rc1,Rxc1,Qxc1,Bxa3,Qc8+,Kh7,Qd7,Qa2,Qxf7', 'Nxf4+,gxf4,Qxf7', 'https://lichess.org/training/bogXg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bOgXY', 'Rapid', 'Urukov', 1775, 'Mercuryjon', 1780, 'd4,Nf6,Bf4,g6,e3,Bg7,Bd3,O-O,c3,d6,Nd2,c5,h3,Nbd7,g4,b6,h4,Bb7,Rh2,h5,gxh5,Nxh5,Be2,Nxf4,exf4,cxd4,cxd4,Bxd4,h5,Bxb2,Rb1,Bc3,hxg6,fxg6', 'Qb3+,Kg7,Qxc3+', 'https://lichess.org/training/bOgXY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BoGyb', 'Blitz', 'tbq2002', 1637, 'CoelhoPrata', 1653, 'd4,Nf6,c4,d5,cxd5,Nxd5,e4,Nf6,Nc3,e6,Nf3,b6,Bg5,Be7,Bd3,Bb7,O-O,O-O,a3,Nbd7,Rc1,Rc8,Re1,c5,b4,c4,Bc2,a6,b5,Bxa3,Ra1,Bb4,bxa6,Ba8,Re3,Qc7,Nb5,Qc6,Ba4,Nxe4,Na7,Qc7,Nxc8,Rxc8,Bxd7,Qxd7,Ne5,Qd5,Qh5,Qxd4', 'Qxf7+,Kh8,Ng6+,hxg6,Rh3#', 'https://lichess.org/training/BoGyb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BOHPG', 'Rapid', 'yonioliel1', 1627, 'cockalop98', 1623, 'e4,c5,Nf3,e6,d4,a6,a3,Qc7,Nc3,Nc6,d5,Ne5,Nxe5,Qxe5,f4,Qc7,Be3,b5,e5,d6,Qf3,Bb7,O-O-O,Nh6,g4,Be7,h4,Rc8,Rd2,b4,axb4,cxb4,Ne2,Qa5,Kb1,exd5,Nd4,dxe5,fxe5,O-O,Bxh6,gxh6,Bd3,f6,Nf5,b3,Nxh6+,Kh8,Qf5', 'Qa2+,Kc1,Qa1#', 'https://lichess.org/training/BOHPG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bohYo', 'Classical', 'Murat_Nuraev', 1969, 'wildanalfarizi', 1922, 'e4,c5,f4,e5,Nf3,Nc6,c3,Bd6,Bc4,exf4,O-O,g5,d4,cxd4,Nxd4,Qb6,Kh1,Ne5,Nf5,Nxc4,b3,Be5,bxc4,d5,Qxd5,Bxf5,Qxe5+,Be6,Qxh8,O-O-O,Qe5,Bxc4,Rg1', 'Qxg1+,Kxg1,Rd1+,Kf2,Rf1#', 'https://lichess.org/training/bohYo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bOIXP', 'Rapid', 'Fiacro', 1643, 'HMiller9', 1764, 'e4,e5,Nf3,Nc6,Bb5,f6,O-O,Bc5,c3,Nge7,d4,exd4,cxd4,Bb6,e5,fxe5,dxe5,O-O,Nc3,a6,Bc4+,Kh8,Bg5,h6,Bh4,Na5,Bd3,d6,Ne4,d5,Ng3,Bg4,h3,Bxf3,gxf3,Qd7,Kh2,g5,Bxg5,hxg5,Rg1,Nf5,f4,Nxg3,Rxg3,Rf7,e6,Qxe6,Qh5+,Kg8,Rxg5+,Kf8,Rag1,Ke7,Re5,Raf8,Rxe6+,Kxe6,Qe5+,Kd7,f5,c6,Rg6', 'Bc7,f4,Bxe5', 'https://lichess.org/training/bOIXP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bojxt', 'Classical', 'concrete_steve', 1969, 'p2Arthur-heitor', 1921, 'e4,c5,Nc3,e6,g3,Nf6,d3,Nc6,Bg2,g6,h3,Bg7,Be3,d5,exd5,exd5,Bxc5,b6,Ba3,Ne7,Nge2,O-O,O-O,Re8,Re1,Be6,Nf4,Qd7,Bxe7,Rxe7,Nfxd5,Nxd5,Bxd5,Bxc3,Bxe6,Rxe6,Rxe6,Bxb2,Re1,Bxa1,Qxa1,Rc8,Qf6,Rxc2', 'Re7,Qxe7,Qxe7', 'https://lichess.org/training/Bojxt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bok1y', 'Classical', 'domovski', 1607, 'wally87', 1675, 'e4,e5,Nf3,Nc6,Bb5,Bc5,d3,Nd4,Nxe5,Nxb5,c4,Nd4,Nc3,c6,O-O,Ne6,Qf3,f6,Ng4,Nd4,Qg3,d6,Ne3,Bb4', 'Qxg7,Qe7,Qxh8', 'https://lichess.org/training/Bok1y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('boK2L', 'Blitz', 'Gercheri', 2020, 'kiker-am', 2020, 'e4,e5,f4,d5,exd5,exf4,Nf3,Nf6,Nc3,c6,Bc4,cxd5,Nxd5,Nxd5,O-O,Bg4,d4,Bd6,Qe1+,Ne7,Ng5,Bh5,Bxf4,O-O,Qh4,Bg6,Be5,Bxe5,dxe5,Nf5,Qf4,Qb6+,Kh1,Ne3,Nxf7,Nxc4', 'Nh6+,gxh6,Qxf8#', 'https://lichess.org/training/boK2L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bOkKC', 'Rapid', 'llirik8691', 1941, 'Crisbenson', 1943, 'd4,d5,Bf4,e6,e3,Bd6,Bg3,Nf6,Nf3,h6,Nbd2,O-O,Bd3,b6,Ne5,Bb7,Bh4,Be7,f4,Nbd7,g4,Ne4,Bxe7,Qxe7,Ndf3,c5,c3,c4,Bc2,Nxe5,fxe5,Ng5,h4,Nxf3+,Qxf3,f6,Qg3,fxe5,Qxe5,Rf3,O-O-O,a5,e4,b5,exd5,Bxd5,Be4,Re3,Rde1,Rxe1+,Rxe1,Qxh4', 'Bxd5,Qxe1+,Qxe1', 'https://lichess.org/training/bOkKC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BOL9F', 'Rapid', 'Ndidiamaka', 1996, 'NNiicckk', 1974, 'e4,e6,d4,d5,exd5,exd5,Nf3,Nf6,Bd3,Be6,O-O,Nbd7,Bf4,Nb6,Ng5,h6,Nxe6,fxe6,Re1,Qd7,Qe2,Kf7,Nd2,Bd6,Bxd6,cxd6,Qf3,Rhe8,Qg3,Re7,Qg6+,Kf8,Re2,Qe8,Rae1,Qxg6,Bxg6,e5,dxe5,dxe5,Rxe5,Rxe5,Rxe5,Nbd7,Re1,Rc8,c3,Rc6,Re2,Nc5,Nb3,Nce4,Nd4,Ra6,a3,Rd6,f3,Ng5,Nb5,Ra6,h4,Ne6,Bf5,Nf4,Rd2,g6,Bb1,Ra5,Nd4,g5,hxg5,hxg5,Kh2,g4,g3,N4h5,Bg6,gxf3,Bxh5,Nxh5,Rf2,Nf6,Rxf3,Kg7,Ne6+,Kg6,Nf4+,Kg5,Ne6+,Kg6,Nd4,Ra6,Kh3,Rb6,Rf2,Kg5,Rf5+,Kg6,Rf2,Kg5,Rf5+,Kg6,Rf2,Rd6,Kh4,Rd8,g4', 'Rh8+,Kg3,Ne4+,Kg2,Nxf2', 'https://lichess.org/training/BOL9F');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bONvx', 'Bullet', 'Gracejigs', 1747, 'Ramm4Sky', 1657, 'd4,d5,f4,e6,Nf3,Nc6,e3,Nge7,Be2,Bd7,O-O,h6,a3,Nf5,c4,Be7,Nc3,dxc4,Bxc4,g5,Ne5,Nxe5,fxe5,c5,Bd3,cxd4,Bxf5,dxc3,bxc3,exf5,Bb2,Qb6,Qd2,Bc5,Rfe1,f4,Kh1,Bxe3,Qc2,Be6,Rab1,Qc5,Red1,Qc8,Qa4+,Bd7,Qe4,Bf5,Qd5,Bxb1,Rxb1,Qd7,c4,Qxd5,cxd5,Rd8,e6,Rxd5,Bxh8,fxe6,h3,e5,Bg7,b6,Bxh6,Rd2,Bxg5,Kd7,Bf6,Ke6,Bg7,Kf5,Rb5,Ke4,Rxe5+,Kd3,Rd5+,Ke2,Rxd2+,Bxd2,Bh6,Be3,h4,a5,Kh2,Kd3,Kh3,Kc4,Kg4,Kb3,Bxf4,Bxf4', 'Kxf4,Kxa3,h5,b5,h6', 'https://lichess.org/training/bONvx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BOo83', 'Rapid', 'DrPipo', 1899, 'korucu', 1946, 'e4,Nf6,Nc3,e5,Nf3,Nc6,Bc4,Nxe4,Nxe4,d5,Bxd5,Qxd5,Nc3,Qd8,O-O,Bc5,Re1,f6,d4,Nxd4,Nxd4,Qxd4,Qh5+,g6,Qe2,Bg4,Qe3,O-O-O,h3,Qxe3,Bxe3,Bxe3,Rxe3,Bf5,Rc1,Rd2,Re2,Rhd8,g4,Be6,Rxd2,Rxd2,Ne4,Rd4,Nxf6,h5,Re1,Kd8,Rxe5,Ke7,Ng8+,Kd6,Rg5,Bxg8,Rxg6+,Be6,gxh5,Rh4,h6,Rxh3,Kg2,Ke5', 'Rxe6+,Kxe6,Kxh3', 'https://lichess.org/training/BOo83');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BOOdx', 'Rapid', 'AlexTul1774', 1912, 'Samvel84', 1643, 'd4,d5,c4,c6,Nf3,Nf6,Nc3,e6,Bg5,Bb4,Qb3,Bxc3+,bxc3,h6,Bh4,Nbd7,e3,Qb6,c5,Qxb3,axb3,Ne4,Rc1,b6,b4,bxc5,bxc5,a5,Bd3,O-O,Be7,Re8,Bd6,a4,O-O,Ba6,Bxa6,Rxa6,c4,a3,cxd5,exd5,Bc7,a2,Ra1,Nc3,h3,Rc8,Bg3,Ne2+,Kh2,Nxg3,Kxg3,Rb8,Rfc1,Nf6,Kh2,Ne4,Kg1,Rb2,Rf1,Nd2,Nxd2,Rxd2,Rfc1,Ra3,Kf1,Rb3,Kg1,Rbb2,Rf1,Rxf2', 'Rxf2,Rb1+,Rf1', 'https://lichess.org/training/BOOdx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BOOtN', 'Classical', 'Meziii', 1686, 'supersahilrock', 1676, 'd4,d5,c4,Nf6,Nc3,e6,Bg5,Be7,f3,Nc6,e4,dxe4,fxe4,Nxd4,e5,Nd7', 'Bxe7,Qxe7,Qxd4', 'https://lichess.org/training/BOOtN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bopQ0', 'Rapid', 'gus2491', 1678, 'mulga', 1704, 'e4,c5,Nf3,Nc6,Nc3,a6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bd3,Nf6,Bg5,Be7,Qd2,O-O,f4,exf4,Qxf4,h6,Bxf6,Bxf6,O-O,d6,Rab1,Be5,Qd2,Be6,a3,a5,Ne2,Rb8,c3,Re8,Nf4,Bd7,Nh5,Qh4,Nf4,g5,Nh3,g4,Qf2,g3', 'Qxf7+,Kh8,Qxd7', 'https://lichess.org/training/bopQ0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Boqic', 'Blitz', 'yasin1848', 1785, 'monkey_wrench', 1771, 'e4,e5,d3,Nf6,Nf3,Bc5,Be2,O-O,Nc3,h6,a3,a5,Be3,Be7,Qd2,c6,h3,d5,exd5,cxd5,g4,Nc6,g5,hxg5,Bxg5,Bf5,h4,Nh5,O-O-O,Bg6,Nh2,Bf6,Bf3,Qd6,Nxd5,Nd4,Nxf6+,Nxf6,Bxf6,Nxf3,Nxf3,Qxf6,Ng5,Rad8,h5,Bf5,h6,g6,h7+,Kh8,Nf3,e4,Ne1,exd3,Nxd3,Rd6,Qxa5,Rfd8,Rhe1,Bxd3,cxd3,Rxd3,Rxd3,Qf4+,Ree3,Rxd3,Qa8+,Kxh7,Qxb7', 'Qc4+,Kb1,Rd1#', 'https://lichess.org/training/Boqic');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BOQiq', 'Rapid', 'AntonielLima', 2210, 'CanuckBrazuka', 2192, 'd4,f5,Nf3,Nf6,c4,e6,Nc3,c6,Bf4,d5,e3,Be7,Ne5,O-O,Be2,Nbd7,g4,Nxe5,Bxe5,Ne4,Nxe4,fxe4,Qb3,Qa5+,Qc3', 'Bb4,O-O,Bxc3', 'https://lichess.org/training/BOQiq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bosiD', 'Blitz', 'StariSvat', 1745, 'Sekisetsu', 1774, 'd4,d5,c4,e6,Nf3,Nf6,Nc3,Bb4,Bg5,h6,Bxf6,Qxf6,a3,Bxc3+,bxc3,dxc4,e3,b5,a4,c6,Qb1,Bd7,Ne5,O-O,Nxd7,Nxd7,axb5,cxb5,Qxb5,Rab8,Qxc4,Rfc8,Qd3,Rb2,Be2,e5,O-O,exd4,cxd4,Rcc2,Bf3,Rd2,Qe4,Nb6,Qe8+,Kh7,Be4+,g6,Rxa7,Rxf2,Bxg6+,Kxg6', 'Qg8+,Qg7,Qxg7+,Kxg7,Rxf2', 'https://lichess.org/training/bosiD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BOsIF', 'Rapid', 'Rafael_Fornas', 1765, 'daviderr', 1756, 'e4,e6,d4,c5,c3,cxd4,cxd4,Bb4+,Bd2,Qb6,Nc3,Qxd4,Nb5,Qxe4+,Ne2,Bxd2+,Qxd2,Qc6,Nd6+,Kf8,Nxc8,Qxc8,Qd6+,Ke8,Rc1,Qd8,g3,Na6,Bg2,Qa5+,Nc3,Qb6,Qxb6,axb6,Bxb7,Ra7,Bxa6,Rxa6,Nb5,Rxa2,O-O,Nf6', 'Rc8+,Ke7,Rxh8', 'https://lichess.org/training/BOsIF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BOStI', 'Rapid', 'maradona007', 1892, 'NGpat_12', 1901, 'e4,c5,Nf3,d6,Nc3,Nf6,e5,dxe5,Nxe5,Nc6,Bb5,Bd7,Nxd7,Qxd7,O-O,a6,Be2,e6,Bf3,Bd6,Re1,O-O,g3,Rac8,Ne2,Nd4,Nxd4,cxd4,c3,dxc3,bxc3,Qc7,a4,b5,axb5,axb5,Ba3,Bxa3,Rxa3,Rfd8,Re2,Qd6,Qc1,b4,Rb3,bxc3,Rxc3,Rxc3,Qxc3,Qd3,Qc7,h6,Kg2,Qd6,Qa5,Rc8,Bb7,Rc2,Qa8+,Kh7,Qa5,Qd3,Ba6,Qd5+', 'Qxd5,Nxd5,Bd3+,Kg8,Bxc2', 'https://lichess.org/training/BOStI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BotgO', 'Rapid', 'mehdi33', 1884, 'Mine-antipersonnel', 1865, 'd4,Nf6,c4,g6,Nc3,d5,c5,Bg7,e3,O-O,Nf3,Bg4,Be2,c6,h3,Bxf3,Bxf3,Nbd7,O-O,e5,Re1,e4,Be2,h6,f3,Qc7,b4,Rae8,b5,Nh7,Rb1,f5,f4,g5,Rf1,Nhf6,fxg5,hxg5,Rxf5,Bh6,Qf1,Qg3,bxc6,bxc6,Bd2,g4,Be1,Qxe3+,Kh1,gxh3,Nd1,hxg2+,Qxg2+,Kf7,Nxe3,Rh8,Bh5+,Ke6,Re5+,Nxe5,dxe5,Bxe3,Qh3+,Kxe5,Bc3+,d4,Qxe3', 'Rxh5+,Kg2,Rg8+', 'https://lichess.org/training/BotgO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BoTsW', 'Rapid', 'amid-008', 1654, 'salemfennir', 1668, 'e4,c5,d4,cxd4,Nf3,e6,Bc4,d5,exd5,exd5,Bb3,Nf6,O-O,Be7,Nxd4,Nc6,Nf3,Be6,Nc3,O-O,Re1,h6,h3,a6,Bf4,Qb6,Bxd5,Nxd5,Nxd5,Bxd5,Qxd5,Rad8,Qh5,Bc5,Be3,Bxe3,Rxe3,Qxb2,Rae1,Qxa2,Re4,Qxc2,Rh4,Qg6,Qc5,Rd3,Ne5,Nxe5,Qxe5,h5,Rxh5,Rdd8,Rg5,Qh6,Qg3,a5,Rxa5,Qd2,Rae5,Rd3,Qh4,Rd4,R5e4', 'Qxe1+,Rxe1,Rxh4', 'https://lichess.org/training/BoTsW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BoUDl', 'Blitz', 'ArtemMuradkhanyan', 2097, 'kalavagunta', 2092, 'd4,d5,c4,Nf6,e3,e6,Nf3,Be7,Nc3,O-O,a3,c6,cxd5,exd5,Bd3,Bg4,h3,Bh5,Be2,Bg6,Bd3,Ne4,Ne5,f5,Nxg6,hxg6,Nxe4,dxe4,Bc4+,Kh7,f3,exf3,Qxf3,Bg5,Bd2,f4,exf4,Bxf4,Bxf4,Qxd4,Bd3,Rxf4,Qh5+,Kg8,Qxg6,Nd7,O-O-O,Nf6,g4,Rf2,Bc2,Qc4,g5,Qa2,gxf6', 'Qa1+,Bb1,Qxb2#', 'https://lichess.org/training/BoUDl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BOVtw', 'Blitz', 'georgiogio', 1712, 'reinhardarp', 1816, 'e4,Nf6,e5,Nd5,d4,d6,exd6,cxd6,Nf3,Nc6,c4,Nb6,d5,Ne5,Nxe5,dxe5,Bd3,e6,dxe6,Bxe6,Qc2,Rc8,b3,Bb4+,Bd2,Qe7,O-O,O-O,a3,Bc5,Bc3,Qh4,Nd2,Bd4,Nf3,Qf4,Bxd4,exd4,Bxh7+,Kh8,Bd3,Rc5,Rfe1,Rh5,Re4,Qh6,h3,Bxh3,gxh3,Rxh3,Rg4', 'Rh1+,Kg2,Qh3#', 'https://lichess.org/training/BOVtw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BOW9L', 'Rapid', 'ABMBA1', 1966, 'Dschingis', 1949, 'e4,e6,d4,d5,Nc3,Nf6,Bg5,Be7,e5,Nfd7,Bxe7,Qxe7,f4,c5,Nf3,Nc6,Bb5,cxd4,Bxc6,dxc3,Bxd7+,Bxd7,bxc3,Qa3,Qd4,Rc8,Kd2,O-O,Rhb1,b6,Rb3,Qc5,a4,Qa5,Rb4,Rc5,Ng1,Rfc8,Ne2,Rc4,Rxc4,Rxc4,Qf2,Rxa4,Qh4,Be8,Qe7,Qb5,Nd4,Qd7,Qxd7,Bxd7,Rxa4,Bxa4,Kc1,a5,Kb2,Kf8,Ka3,Be8,Kb3,Ke7,c4,dxc4+,Kxc4,Kd8,Nb5,Bxb5+,Kxb5,Kc7,g4,f6,h4,fxe5,fxe5,Kb7,c4,a4,Kxa4,Kc6,Kb4,g6,g5,Kd7', 'Kb5,Kc7,c5,bxc5,Kxc5', 'https://lichess.org/training/BOW9L');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bowhl', 'Classical', 'aliboubakri', 1992, 'Twonkiey', 1861, 'Nf3,Nf6,d3,Nc6,g3,e5,e4,d5,Nbd2,Bg4,Bg2,Bc5,h3,Be6,O-O,Qd7,Kh2,O-O-O,Ng5,h5,Nxe6,Qxe6,Nb3,Bb6,Qe2,dxe4,dxe4,Nd4,Nxd4,Bxd4,c3,Bb6,Be3,Nd7,a4,a5,b4,axb4,cxb4,Qd6,a5,Bxe3,Qxe3,Qxb4,Rfb1,Qc5,a6,Qxe3', 'axb7+,Kb8,Ra8#', 'https://lichess.org/training/bowhl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bOWMo', 'Rapid', 'intel2016', 1975, 'kuros', 2128, 'd4,e6,a3,d5,e3,c5,c4,Nc6,Nf3,Nf6,h3,cxd4,exd4,Be7,Nc3,O-O,Bd3,dxc4,Bxc4,a6,O-O,b5,Ba2,Bb7,Be3,Rc8,Qe2,b4,axb4,Nxb4,Bc4,Bxf3,gxf3,a5,b3,Nbd5,Ne4,Nh5,Qd2,Bb4,Qc1,Qh4,Kh2,f5', 'Bg5,Qf4+,Bxf4', 'https://lichess.org/training/bOWMo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Boxjp', 'Rapid', 'Chssm', 1716, 'kalanlar1', 1780, 'd4,d5,Bf4,c5,e3,Nf6,c3,Nc6,Bb5,a6,Qa4,Bd7,Bxc6,Bxc6,Qc2,e6,Nf3,Rc8,O-O,cxd4,exd4,Nh5,Be3,Bd6,Re1,O-O,Nbd2,Nf4,Ne5,Ng6,Ndf3,b5,b4,Be8,a3,f6,Nxg6,Bxg6,Qe2,Qd7,Rac1,a5,Nd2,axb4,axb4,Rc7,Nb3,Rfc8,Qd2,e5,dxe5,fxe5,Qxd5+,Bf7,Qd1,Rxc3,Nc5,Rxc1,Qxc1,Qg4,Qb2,Bd5,f3,Bxf3,Rf1,e4,Qd4,Rd8,Rxf3', 'Bxh2+,Kxh2,Rxd4', 'https://lichess.org/training/Boxjp');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Boyhr', 'Rapid', 'enterye', 1637, 'Ronx', 1649, 'd4,d5,c4,dxc4,Nc3,g6,Bf4,e6,e3,a6,Qf3,Bg7,Bxc4,Nf6,Nge2,O-O,Bg5,h6,Bxf6,Bxf6,Ne4,Bg7,O-O,Nd7,Rfc1,b5,Bb3,Bb7,N2g3,Rb8,Qe2,Nf6,Nxf6+,Bxf6,Rc2,Qe7,Rac1,Rfc8,Rc3,b4,Rc5,Bg7,Qc2,c6,Ba4,Rc7,Bxc6,Rbc8,Bxb7,Rxc5,dxc5,Qxb7,b3,a5,c6,Qc7,Ne4,f5,Nc5,Kf7,Nd7,Bc3,Nc5,Qxc6,Na4,Rc7,Qd3,Rd7,Qc2,Rd2', 'Qxd2,Bxd2,Rxc6', 'https://lichess.org/training/Boyhr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BOYZH', 'Blitz', 'UrielGHF', 1599, 'Gonzalo1', 1729, 'e4,c5,d4,cxd4,c3,dxc3,Nxc3,e6,Nf3,Nc6,Be3,Bb4,Bd3,Nf6,e5,Nd5,Bd2,O-O,Qc2,a6,Bxh7+,Kh8,Bd3,Qc7,Ng5,Qxe5+,Be2,f5,g4,Bxc3,Bxc3,Nxc3,bxc3,Nb4,cxb4,Qxa1+,Bd1,Qe5+,Kf1,a5,Qd3,b6', 'Qh3+,Kg8,Qh7#', 'https://lichess.org/training/BOYZH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bOzCG', 'Blitz', 'Machiavellian1', 1773, 'niceninbiyigi', 1752, 'e4,g6,Nf3,Bg7,d4,d6,Nc3,Nf6,Bd3,O-O,O-O,Nc6,h3,Nb4,a3,Nxd3,cxd3,e5,d5,h5,Bg5,Kh7,Qd2,Qd7,Kh2,Kg8,Ne2,Nh7,b4,f6,Bh6,g5,Bxg7,Kxg7,Ng3,h4,Nf5+,Kg6,g4,hxg3+,fxg3,Rh8,Kg2,Nf8,Rh1,c6,h4,cxd5,h5+,Kf7,h6,dxe4,dxe4,d5,Qa2,Kg6,g4,dxe4,Ne1,Ne6,Nc2,Nf4+,Kf1,Qd3+,Kg1,Ne2+,Kf2,Nc3', 'Ne7+,Kh7,Qf7#', 'https://lichess.org/training/bOzCG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bOze8', 'Classical', 'Ed1996h', 1786, 'Aamir1359', 1746, 'e4,e6,d4,b6,c4,Bb7,Nc3,Bb4,Bd3,Qh4,Qe2,f5,Nf3,Qg4,O-O,fxe4,Nxe4,Bd6,h3,Qh5,Nxd6+,cxd6,Be4,d5,cxd5,Bxd5,Bxd5,Qxd5,Bg5,Nc6,Rac1,h6,Bf4,g5,Be5,Rh7,Qd3,Rf7,Qg6,Nge7,Qxh6,O-O-O,Nxg5,Rf5,b4', 'Rxg5,Qxg5,Rg8,Qg3,Rxg3', 'https://lichess.org/training/bOze8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BoZiw', 'Blitz', 'AL_A', 2226, 'CM jacobomelendez', 2332, 'e4,c5,d4,cxd4,c3,d3,Bxd3,d6,c4,e6,Nc3,Nf6,f4,Be7,Nf3,O-O,h3,a6,Be3,Qc7,Rc1,Nbd7,O-O,b6,b4,Bb7,Qe2,Rfe8,Rfd1,Bf8,Qf2,Rac8,a3,Qb8,g4,Qa8,Nd2,d5,e5,Ne4,Bxe4,dxe4,Nf1,Red8,Na4,b5,Rxd7,Rxd7,Nb6,Qb8,Nxd7,Qc7,Nxf8,bxc4,Bc5,Bd5,Qd4,e3,Nxe3,Bb7,Qd7,Qb8,f5,Rd8,fxe6,Rxd7,Nxd7,Qd8,Rd1,Qh4,Nf5,Qxh3,Nf6+,gxf6', 'Rd8#', 'https://lichess.org/training/BoZiw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('boZLo', 'Rapid', 'PresidentEN', 2177, 'J34n', 2183, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nf6,Nxc6,bxc6,Bd3,Bc5,O-O,O-O,Bg5,Be7,c4,Nxe4,Bxe7,Qxe7,Re1,d5,Nd2,Qb4,Nxe4,dxe4,Bxe4,Qxc4,Rc1,Qxa2,Qh5,g6,Qe5,Be6,Bxc6,Rad8,Qc3,Rb8,Re2,Rfd8,h3,Rb3,Qf6,Rbd3,Rce1,R8d6,Be4,Bg4,Qe7,Re6,Qb4,Bxe2,Rxe2,Rb3,Qd4,Rb8,Rc2,Qb1+,Kh2,Rbe8,f3,Qe1,Rxc7,Qa5,Rc5,Qb6,Qc3,Qd6+,Kh1,R6e7,b4,Rd8,Rd5,Qb6,Rc5,h5,h4,Kh7', 'Rxh5+,Kg8,Rh8#', 'https://lichess.org/training/boZLo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bP0sn', 'Rapid', 'valkrosh', 1771, 'Sandro1312', 1746, 'd4,e6,c4,Nf6,Nf3,c5,g3,cxd4,Bg2,Nc6,O-O,g6,e3,dxe3,Bxe3,Bg7,Nc3,O-O,Bg5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Ne7,Qf3,Nh7,Ne4,Nxg5,Nxg5,Nf5,Qh5,Bh6,f4,f6', 'Qg6+,Bg7,Qh7#', 'https://lichess.org/training/bP0sn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bp1dJ', 'Blitz', 'King_Leonidas', 1735, 'elSchuft', 1685, 'e4,c5,Nf3,Nc6,c3,d5,exd5,Qxd5,d4,cxd4,cxd4,e5,Nc3,Bb4,Bd2,Bxc3,Bxc3,e4,Ne5,Nxe5,dxe5,Qxd1+,Rxd1,Bg4,Bb5+,Ke7,Rd2,a6,Bb4+,Ke6,O-O,axb5,Rd6+,Kxe5,f4+,Kf5,h3,Be2,Rf2,Bh5,g4+,Bxg4,hxg4+,Kxg4,Rg2+,Kf5,Kf2,Nf6', 'Rg5+,Kxf4,Bd2+,e3+,Bxe3+,Ke4,Rd4#', 'https://lichess.org/training/bp1dJ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BP1r3', 'Rapid', 'Benjaminjosso', 1755, 'Dragongayu', 1743, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Nf3,d6,Bg5,a6,Qd2,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Be7,O-O-O,Ng4,Bxe7,Qxe7,Nd5,Qd8,h3,Nf6,Nc3,Be6,f4,exf4,Qxf4,Nh5,Qh2,Qe7,Rxd6,Rd8,Rxd8+,Qxd8,g4,Qg5+,Kb1,Ng7,Bd3,b5,Qd6,Bd7,Nd5,Qe5', 'Nf6+,Qxf6,Qxf6', 'https://lichess.org/training/BP1r3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bp2z5', 'Rapid', 'SlavaTomsk', 1609, 'richardalmee', 1617, 'e4,e6,d4,d5,e5,c5,c3,b6,Nf3,Ba6,Bxa6,Nxa6,O-O,Ne7', 'Qa4+,Qd7,Qxa6', 'https://lichess.org/training/bp2z5');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bp4qN', 'Rapid', 'Pepecol', 1696, 'Chesmag', 1747, 'e4,e5,Nf3,Nc6,Bc4,Nf6,d3,h6,O-O,d6,h3,Be7,a3,a6,b4,b5,Bb3,Bb7,Nbd2,Nd4,Nxd4,exd4,Bb2,c5,Nf3,O-O,Re1,Nd7,bxc5,Nxc5,Nxd4,Bf6,Qc1,Nxb3,cxb3,Be5,f4,Bf6,e5,dxe5,fxe5,Bg5,Qc2,Qd5,Nf3,Rfc8,Qf2,Be7,Qg3,Rc2,Rab1,Qxd3,e6,f6,Red1,Qe3+,Kh1,Rxg2,Kxg2,Qe2+,Qf2,Qe4,Re1,Qg6+,Kf1,Be4,Nh4', 'Bd3+,Re2,Bxe2+', 'https://lichess.org/training/bp4qN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bP7El', 'Blitz', 'alfredthe4th', 1838, 'DivadLank', 1801, 'd4,Nc6,d5,Nb8,e4,e6,dxe6,fxe6,Qh5+,g6,Qe5,Nf6,Bg5,Bg7,Nc3,O-O,O-O-O,Nc6,Qg3,Qe8,Qxc7,Ng4,Nh3,Nxf2,Nxf2,Rxf2,Bc4,Rxg2,h4,Nd4,Rd2,Rg4,Rhd1,Nf3,Bxe6+,Qxe6,Rd6,Qe5,Qd8+,Kf7,Rxd7+,Bxd7', 'Rxd7+,Ke6,Qe7#', 'https://lichess.org/training/bP7El');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BP7uw', 'Classical', 'winbuy', 1775, 'zauberwaldkacken', 1861, 'd4,d5,c4,e6,Nf3,c5,Nc3,Nf6,Bg5,cxd4,Qxd4,Nc6,Qd2,h6,Bh4,Be7,cxd5,Nxd5,e4,Bxh4,exd5,Nb4,O-O-O,Bf6,Bc4,e5,Rhe1,Bg4,Re4,Bxf3,gxf3,O-O,Kb1,Bg5,Qe2,Bf4,d6,Rc8,Bxf7+,Rxf7,Rxb4,Rd7,Qe4,Rxd6,Rxd6,Qxd6,Qxb7,Qd3+,Ka1,Qf1+,Nb1', 'Qxb1+,Kxb1,Rc1#', 'https://lichess.org/training/BP7uw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bp8Kc', 'Rapid', 'nvem12345', 2116, 'G_a_l_v_i_n', 2169, 'e4,Nf6,e5,Nd5,d4,d6,exd6,cxd6,g3,g6,Bg2,Nb6,Ne2,Bg7,O-O,O-O,a4,Nc6,a5,Nd7,Bxc6,bxc6,b4,a6,Be3,Bb7,Qd2,Qc7,Bh6,c5,Bxg7,Kxg7,bxc5,dxc5,Qc3,Kg8,Nd2,Qc6,f3,cxd4,Qxc6,Bxc6,Nxd4,Bd5,c4,Bb7,Rab1,Rab8,N2b3,Rfc8,Rbc1,e5,Ne2,Ba8,Nd2,Rb2,Rfd1,Nc5,Rb1,Rcb8,Rxb2,Rxb2,Kf1,Ra2,Nc3,Rxa5,Nd5,Bxd5,cxd5,Nd7,Ne4,Kf8,g4,h6,h4,Ke7,Kg2,f5,gxf5,gxf5,Ng3,Kf6,Ne2,Nb6,Nc3,Nc4,Kf2,Ra3,Ne2,Ke7,f4,e4,Nd4,Ra2+,Kg3,Ne3,d6+,Kxd6', 'Nxf5+,Kc5,Nxe3', 'https://lichess.org/training/bp8Kc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BP9rZ', 'Rapid', 'Dargan79', 1724, 'Laskcap', 1718, 'e4,e5,Nf3,d6,Nc3,Nf6,Bc4,Be7,h3,O-O,d3,Nc6,Be3,Be6,Bb5,Qd7,O-O,a6,Ba4,b5,Bb3,Na5,Bd5,Rab8,b4,Nc6,Bb3,Nd8,a3,Bxb3,cxb3,c5,Qd2,Nc6,Bg5,Nd4,Bxf6,Bxf6,Nxd4,cxd4,Nd5,Qd8,Qd1,Bg5,Qg4,Rc8,f4,Bxf4,Nxf4,exf4,Qxf4,Rc3,a4,bxa4,Rxa4,Rxb3,Rxa6,Rxb4,Rxd6,Qa5,Re6,Qb5,Re7,Qxd3', 'Qxf7+,Rxf7,Re8+,Rf8,Rexf8#', 'https://lichess.org/training/BP9rZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bp9yG', 'Rapid', 'J_ASTERIX', 1900, 'three3movemate', 1863, 'd4,d5,Bf4,Nf6,e3,e6,Nd2,Bd6,Ngf3,Bxf4,exf4,c6,Bd3,Qc7,g3,O-O,Qe2,b5,Ne5,Nbd7,h4,Nxe5,fxe5,Nd7,h5,f5,f4,h6,g4,Nb6,g5,Nc4,Bxc4,bxc4,gxh6,gxh6,Rg1+,Kh7,Qg2,Qf7,O-O-O,Ba6,Qg6+,Qxg6,Rxg6,Rae8,Nf3,Rg8,Nh4,Rxg6,Nxg6,c3,b3,Be2,Rh1,Bf3,Rh4,Bxh5,Rxh5,Kxg6,Rh3,h5,Rg3+,Kh6,Rg5,Re7,Rg3,Rg7,Rxc3,Rc7,b4,a6,a4,h4,Kd1,Kh5,Ke2,Kg4,Kf2,Kxf4,b5,axb5,axb5,c5,Rxc5,Rb7,c3,Kg4,Kg2,f4,c4,f3+,Kh2,dxc4,Rxc4,Rxb5,d5+,Kg5,d6,Rd5,Rc2,Rxe5', 'd7,Rd5,Rc5,Rxc5,d8=Q+', 'https://lichess.org/training/bp9yG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BpBCZ', 'Rapid', 'RYATUGIN5', 1717, 'Artem_S', 1634, 'e4,c5,Bc4,g6,Nf3,Bg7,c3,Nf6,d3,O-O,O-O,e6,h3,d5,exd5,exd5,Bb3,b5,Nbd2,a5,a4,c4,dxc4,bxc4,Ba2,Nbd7,Qc2,Nc5,b3,cxb3,Bxb3,Rb8,Ba2,Ba6,Rd1,Qd7,Nc4,Nxa4,Nxa5,Ne4,Rxd5,Qe7,Nc6,Qc7,Qxa4,Nxc3,Qxa6,Rb6,Qc4,Rxc6,Qd3,Rc8,Bb2,Qb8,Rb1,Nxa2,Bxg7', 'Rc1+,Rxc1,Rxc1+', 'https://lichess.org/training/BpBCZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BpbRr', 'Rapid', 'speedlike', 2140, 'petechess', 2174, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,e6,Nc3,Bb4,Be3,Nf6,f3,d5,e5,Nd7,f4,f5,Nf3,O-O,Bd3,Qa5,Qc2,Nb6,O-O,Nc4,Bf2,Bxc3,bxc3,b5,a3,Bd7,Nd2,Nxd2,Qxd2,a6,Qc2,Qc7,Be1,Na5,Qe2,Nc4,g4,fxg4,Qxg4,Ne3,Qh3,Nf5,Bd2,Qd8,Kh1,Qh4', 'Bxf5,Qxh3,Bxh3', 'https://lichess.org/training/BpbRr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bPbvR', 'Rapid', 'rashid2212', 1939, 'manhi', 2022, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Bc4,e6,Be3,Be7,f3,O-O,Qd2,b5,Bb3,Qc7,O-O-O,Bd7,Kb1,Nc6,g4,Nxd4,Bxd4,Bc6,h4,Nd7,g5,Ne5,Bxe5,dxe5,Qe2,Rad8,Rhg1,Rxd1+,Nxd1,Bc5,Rf1,Rd8,h5,a5,a3,b4,a4,Qd7,g6,Bxa4,gxf7+,Kxf7,f4,exf4,Bxa4,Qxa4,Qc4,Qc6,Rxf4+,Kg8,Ne3,Rd4,Qf1,Rxe4,Nc4,Rxf4,Qxf4,Qh1+,Ka2,Qd5,b3,Qf5,Qb8+,Kf7,Ne5+,Kf6,Nd3,Be7,Qc7,Qxh5,Nf4,Qe5,Qc4,g5,Nd3,Qd5,Qc8,Kg7,Qe8,Bf6,Qc8,Qd4,Qb7+,Kg6,Qh1,h5,Qb1,h4,Ne1,h3', 'c3+,Kg7,cxd4', 'https://lichess.org/training/bPbvR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BpGmX', 'Blitz', 'Enrrique_Aguilar24', 1658, 'VHW', 1666, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Nc3,e6,Bg5,Be7,Bd3,Nbd7,O-O,O-O,Re1,h6,Be3,Re8,Qd2,e5,Bxh6,e4,Nxe4,dxe4,Rxe4,Nxe4,Bxe4,Nf6,Bxg7,Kxg7,Qg5+,Kf8,Qh6+,Kg8,Ng5,Qxd4', 'Bh7+,Nxh7,Qxh7+,Kf8,Qxf7#', 'https://lichess.org/training/BpGmX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BPIIU', 'Blitz', 'Mierdecilla', 2534, 'FM dbestsmiles', 2496, 'd4,Nf6,c4,g6,Nc3,Bg7,e4,d6,f3,O-O,Bg5,c6,Qd2,Nbd7,Bd3,a6,a4,Qa5,Ra3,e5,d5,Nc5,Bc2,Qb4,Nge2,Qxb2,Ra2,Qb4,O-O,Qxc4,Rc1,Qb4,a5,cxd5,exd5,Nb3,Bxb3,Qxb3,Bxf6,Bxf6,Ne4,Be7,Rc7,Bd8,Rc3,Qb4,Rb2,Qxa5,Nxd6,Bb6+,Kh1,Bd4,Nc4,Bxc3,Nxc3,Qc5,Nxe5,Bf5,g4,Rac8,Rb3,Rfe8,Qf4,Qf2,h4,Qf1+,Kh2,Qf2+,Kh3,f6,gxf5,Rxe5,fxg6,Re1', 'gxh7+,Kf7,Rxb7+', 'https://lichess.org/training/BPIIU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BPj6h', 'Rapid', 'USTAGM', 1745, 'Zak-saloum', 1711, 'c4,Nf6,Nc3,Nc6,e3,e6,Nf3,Bb4,a3,Bxc3,dxc3,d5,cxd5,exd5,Bb5,Be6,O-O,O-O,b4,Bg4,h3,Bxf3,Qxf3,Ne4,Qe2,Nxc3,Qd3,Qf6,Bb2,d4,exd4,Nxb5,Qxb5,Nxd4,Qxb7', 'Ne2+,Kh2,Qxb2', 'https://lichess.org/training/BPj6h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BPk8Q', 'Blitz', 'Masterking3000', 2126, 'ar-g', 2048, 'd4,d5,e4,e6,Nc3,c6,Bd3,f5,exd5,exd5,Nf3,Nf6,Bg5,Bd6,Ne5,O-O,f4,Qe8,Bxf6,Rxf6,Ne2,Be6,O-O,Rh6,Ng3,Rf6,c3,Nd7,Qc2,Qf8,Rae1,c5,b3,cxd4,cxd4,Rc8,Qe2,Bb4,Rc1,Rxc1,Rxc1,Rh6,Rc7,Nxe5,Qxe5', 'Bd6,Rxg7+,Qxg7,Qxg7+,Kxg7,Nxf5+,Bxf5', 'https://lichess.org/training/BPk8Q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BpkAn', 'Blitz', 'ikey80', 2451, 'IM TacticalMaster', 2450, 'd4,e6,c4,Bb4+,Bd2,c5,Bxb4,cxb4,Nf3,Nc6,e4,d6,a3,a5,axb4,Nxb4,Nc3,Nf6,Be2,Nd7,O-O,O-O,Qb3,e5,Nd5,Nxd5,cxd5,exd4,Nxd4,Nc5,Qc2,Re8,f3,Bd7,Kh1,Qf6,Rfd1,Rec8,Bb5,Bxb5,Nxb5,g6,Qc3,Qxc3,bxc3,Rd8,Rdb1,f6,Kg1,g5,Kf2,h5,Ke3,Kf7,Kd4,a4', 'Nxd6+,Rxd6,Kxc5', 'https://lichess.org/training/BpkAn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BPKwq', 'Blitz', 'boolah229', 2243, 'Itibster', 2192, 'd4,Nf6,c4,g6,Nc3,d5,cxd5,Nxd5,e4,Nxc3,bxc3,c5,Bb5+,Bd7,Bxd7+,Nxd7,Nf3,Bg7,O-O,O-O,Rb1,Qc7,Be3,Rfd8,Qb3,b6,Rfc1,Rac8,a4,Nf6,Ne5,e6,f3,Nd7,Nxd7,Rxd7,Rd1,Rcd8,dxc5,Rxd1+,Rxd1,Rxd1+,Qxd1,Bxc3,cxb6,axb6,Qb3,Ba5,Qb5,Qd8,Kf2,Kg7,Qe5+,f6,Qxe6,Qd1,Qe7+,Kg8,Qe8+,Kg7,Bh6+,Kxh6', 'Qf8+,Kg5,h4+,Kh5,g4+,Kxh4,Qh6#', 'https://lichess.org/training/BPKwq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BPl3X', 'Rapid', 'Nicilas', 1796, 'Phienphucqua', 1852, 'd4,Nf6,c4,e6,Nc3,d5,Nf3,c5,cxd5,Nxd5,Nxd5,Qxd5,e3,Nc6,b3,cxd4,Bc4,Qa5+,Bd2,Bb4,exd4,O-O,a3,Bxd2+,Qxd2,Qxd2+,Kxd2,Rd8,Kc3,Na5,Rad1,Nxc4,bxc4,b6,Rd3,Ba6,a4,Rac8,Nd2,b5,axb5,Bxb5,Rb1,a6,Kb4,Bc6,Kc3,Bxg2,Rg3,Bc6,c5,a5,Nc4,a4,Nb6,Rc7,Ra1,Ra7,Rd3,g6,Kb4,Rb8,Rda3,f6,Rxa4,Bxa4,Rxa4,Rxa4+,Kxa4,e5,d5,f5,Kb5,Kf7,Kc6,Ke7,d6+,Ke6,Kc7,Rf8,Nd7,Ra8,c6,Ra7+,Kb8,Rxd7', 'c7,Kxd6,c8=Q', 'https://lichess.org/training/BPl3X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BPLKR', 'Rapid', 'EugSnow', 1959, 'Shkodra', 1803, 'e4,c5,Nf3,Nc6,d4,e5,d5,Nd4,Nc3,d6,Bb5+,Bd7,Bxd7+,Qxd7,O-O,Qg4,Nxd4,Qxd1,Nxd1,cxd4,f4,Be7,Nf2,Nf6,Re1,h5,fxe5,dxe5,c3,Bc5,cxd4,Bxd4,Be3,Bxb2,Rab1,Bd4,Bxd4,exd4,Rxb7,O-O,Re7,Rfe8,Rxe8+,Rxe8,Kf1,Ng4,Nxg4,hxg4,Kf2,g6,h3,gxh3,gxh3,Rb8,Re2,a5,Rd2,Rb4,h4,a4,Kf3,a3,d6,Kf8,e5,Ke8,Ke4,Rb2,Kd3,Kd7', 'Rxb2,axb2,Kc2,b1=Q+,Kxb1,f6,exf6', 'https://lichess.org/training/BPLKR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BpLxo', 'Rapid', 'DArby74', 1957, 'Hussein1968', 2009, 'e4,c5,Bc4,a6,Nf3,h6,O-O,Nc6,d4,cxd4,Nxd4,Ne5,Bb3,e6,f4,Nc6,Kh1,Qc7,Nc3,b5,f5,e5,Nd5,Qb7,Nxc6,dxc6,Qh5,Nf6,Nxf6+,gxf6,Be3,c5,a4,c4,Ba2,Qxe4,Bb6,Bb7,Qh3,Rg8,Rf2,bxa4,Bxc4,Qxc4,Re1,Qc6,Ba5,Bc5,Rfe2,Qb5,Bc3,a3,bxa3,O-O-O,Qxh6,Qc6,Qh3,Bxa3,Ba5,Rd7,Qxa3,Kb8,Qh3,Rd4,c3,Rdg4,Rg1,Qb5,Ra2,Qb3,Rd2,Qa4,Bb4,Qc6,Bd6+,Ka8,Be7,Qd6,Bxd6,a5,Ra2,a4,Rxa4+,Rxa4,Bb4,Ra2,c4,Rgxg2,Rxg2', 'Ra1+,Be1,Rxe1#', 'https://lichess.org/training/BpLxo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bPnau', 'Rapid', 'megakeyrum', 1943, 'Pletokbir', 2009, 'e4,c6,d4,d5,e5,Bf5,h4,h6,Bd3,Bxd3,Qxd3,e6,Nf3,Nd7,Bf4,Qc7,Nbd2,Bb4,a3,Ba5,b4,Bb6,c3,O-O-O,a4,a6,a5,Ba7,Nb3,f6,O-O,fxe5,Nxe5,Nxe5,Bxe5,Qf7,Rab1,Nf6,Nc5,Bxc5,bxc5,Nd7,Bg3,g5,hxg5,hxg5,f3,Qh5,Kf2,g4,Rh1,Qf7,Qe3,e5,dxe5,gxf3,Qxf3,Qe6,Qe3,Rdf8+,Kg1,Rhg8,Rh6', 'Rxg3,Qxg3,Qxh6', 'https://lichess.org/training/bPnau');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bpNLD', 'Rapid', 'AgustinLepre', 1607, 'VPPizarro', 1776, 'e4,e5,Bc4,d6,Nc3,c6,d4,exd4,Qxd4,Nf6,e5,Ng4,e6,Ne5,exf7+,Nxf7,Bxf7+,Kxf7,Nf3,Be7,Qf4+,Bf6,O-O,Rf8,Ne4,Kg8,Nxd6,Nd7,Qc4+,Kh8,Nf7+,Rxf7,Qxf7,Nc5,Qc4,b6,Be3,Ba6,Qf7,Bxf1,Rxf1,Bxb2,Ng5,h6,Qh5,Qf6,Re1,Rf8,Bxc5,bxc5,Ne4,Qf5,Qd1,Bd4,Re2,Qd5,Qd2,Qxa2,Qc1,Rb8,Nd2,Bc3,Nb3,Rxb3', 'Re8+,Kh7,cxb3', 'https://lichess.org/training/bpNLD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BpO4l', 'Blitz', 'hoosquare', 1920, 'PeritusNauta', 1927, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Bc4,a6,O-O,e6,Bg5,Be7,Nc3,h6,Bh4,Nxe4,Bxe7,Nxc3,Bxd8,Nxd1,Raxd1,Kxd8,f4,Nc6,Nf3,Kc7,f5,d5,Bb3,Bd7,f6,gxf6,Ne1,f5,g4,Rhg8,h3,Raf8,Nd3,fxg4,h4,h5,Nc5,Ne5,Kf2,Bb5,Rfe1,Nf3,Re3,b6,Na4,Bxa4,Bxa4,b5,Rc3+,Kb6,Bb3,Nxh4,a4,Nf5,a5+,Kxa5,Rc6,g3+,Kg1,Rc8,Ra1+,Kb4,Rcxa6,h4,Ba2,Ra8', 'c3+,Kc5,b4#', 'https://lichess.org/training/BpO4l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BPoOU', 'Rapid', 'camus133', 1839, 'mrboydy', 1994, 'd4,Nf6,c4,e6,Nc3,Bb4,Bd2,c5,Nf3,Nc6,e3,O-O,Bd3,d5,O-O,dxc4,Bxc4,cxd4,Nxd4,Nxd4,exd4,Qxd4,Bb3,Rd8,Be3,Qxd1,Rfxd1,Bd7,Rd2,Bxc3,bxc3,Ne4,Rd3,Bb5,Rxd8+,Rxd8,c4,Ba6,Bxa7,Rd2,Re1,Nd6,c5,Nb5,Rd1', 'Rxd1+,Bxd1,Nxa7', 'https://lichess.org/training/BPoOU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BPOyA', 'Blitz', 'yos_putraa', 2208, 'knix05', 1954, 'd4,f5,Nc3,Nf6,Nf3,e6,e3,Bb4,Bd3,Bxc3+,bxc3,b6,O-O,Bb7,e4,O-O,exf5,exf5,Bg5,Qe8,Re1,Qh5,Bf4,Ne4,Bxc7,Na6,Bf4,h6,Qb1,g5,Qb3+,Kh7,Be2,gxf4,Bd3,Qg4,Bf1,Rg8,c4,Nd2,Ne5,Qg7,Qh3,Nxf1', 'Qxf5+,Kh8,Nf7+,Qxf7,Qxf7', 'https://lichess.org/training/BPOyA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bppGR', 'Rapid', 'cartem', 1951, 'WojciechKuczkowski', 1882, 'd4,c6,c4,d5,Nc3,Nf6,Bg5,dxc4,Bxf6,exf6,a4,Be6,e4,Bb4,Nf3,Qa5,Qc2,Nd7,Be2,O-O,O-O,Rfe8,Nd2,Nb6,Bf3,Rad8,d5,cxd5,exd5,Bxc3,bxc3,Bxd5,Bxd5,Qxd5,Nf3,Qd3,Qb2,Nxa4,Rxa4', 'Qxf1+,Kxf1,Rd1+,Ne1,Rexe1#', 'https://lichess.org/training/bppGR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BpQ9q', 'Blitz', 'FM zvjaginsevfan', 2486, 'delapoutre', 2504, 'e4,d6,d4,Nf6,Nc3,e5,Nf3,Nbd7,Bc4,Be7,O-O,O-O,a4,c6,Qe2,exd4,Nxd4,Ne5,Ba2,Re8,f4,Ng6,f5,Ne5,Bf4,Bf8,Kh1,Qb6,Nf3,Qxb2,Nxe5,dxe5,Bd2,Qb6,g4,h6,h4,Rd8,g5,hxg5,hxg5,Rxd2,Qxd2,Nh5,g6,Bb4,Bxf7+,Kf8,f6,Ng3+,Kg2,Nxe4,Rh1,gxf6,Qh6+,Ke7,Nxe4,Bf5,Rae1,Qd4,Nxf6,Kxf6,Qh4+', 'Qxh4,Rxh4,Bxe1', 'https://lichess.org/training/BpQ9q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BpQXo', 'Rapid', 'Roma0268', 1743, 'OkayMusic', 1655, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,Nc3,O-O,a3,d6,h3,Be6,d3,Bxc4,dxc4,Nd4,Bg5,h6,Bh4,Ne6,Nd5,Kh8,Bxf6,gxf6,b4,Bd4,c3,c6,cxd4,cxd5,cxd5,Ng5,Nxg5,fxg5,dxe5,dxe5,Qh5,Qb6,Rac1,f5,Rfe1,fxe4,Rxe4,Rxf2,Kh1,Raf8,Rxe5,Qd6,Re8,Kg7,Rxf8,Qxf8,Rc7+,Kh8,Qg4', 'Rf1+,Kh2,Qd6+,Qg3,Rh1+,Kxh1,Qxg3', 'https://lichess.org/training/BpQXo');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BPQZR', 'Rapid', 'tash01', 1736, 'Ryan_Dia', 1603, 'd4,Nf6,Bf4,e6,e3,b6,c3,Bb7,Nd2,d5,Ngf3,Be7,Bb5+,c6,Ba4,Nbd7,h3,O-O,O-O,h6,Bh2,Ba6,Re1,Rb8,a3,Rc8,Bc2,c5,Ne5,Nxe5,dxe5,Nd7,f4,Bh4,g3,Be7,b4,f6,a4,fxe5,b5,Bb7,Nf3,exf4,gxf4,d4,Ne5,dxc3,Qd3,Nxe5', 'Qh7+,Kf7,fxe5', 'https://lichess.org/training/BPQZR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bpREL', 'Rapid', 'Baluyot1', 1797, 'dfrugo', 1671, 'd4,e5,dxe5,Nc6,Nf3,b6,e3,Bb7,Be2,f6,exf6,Qxf6,O-O,O-O-O,c3,Ne5,Qa4,Nxf3+,Bxf3,Bxf3,gxf3,Kb8,f4,g5,Nd2,gxf4,Qxf4,Qxf4,exf4,Bh6,Nc4,Ne7,Ne5,Rhf8,Kh1,Kb7,Be3,Nd5,Rad1,Nf6,c4,d6,Nf3,Ne4,Rd4,Nc5,b4,Na4,Ng5,Bxg5,fxg5,Nc3,a3,Rde8,h4', 'Rxe3,fxe3,Rxf1+', 'https://lichess.org/training/bpREL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bpRK8', 'Rapid', 'kerespaul', 1801, 'mmaric', 1832, 'e4,c5,Nf3,Nc6,c3,e6,d4,cxd4,cxd4,d5,e5,Bb4+,Nc3,Qa5,Bd2,Nge7,a3,Bxc3,Bxc3,Qb6,g3,O-O,Bh3,f5,exf6,Rxf6,O-O,Bd7,Re1,Raf8,Bg2,Qc7,Re2,Ng6,Bb4,R8f7,Ng5,Nxb4,Nxf7,Nc6,Ne5,Ncxe5,dxe5,Rf5,Rc1,Qb6,Bh3,Rxe5,Rxe5,Nxe5,Qh5,Qd6,Bf1,Nc6,Re1,e5,Bb5,Qf6,Bxc6,Bxc6,Qxe5,Qf8,b4,a6,Qe6+,Kh8,f4,h6,Rc1,Kh7,Rxc6,bxc6,Qxc6,Qd8,Qxa6,d4,Qd3+,g6,a4,Qd5,b5,Kg7,a5,Kf7,a6,Qc5,Qb3+,Kf6,b6,Qc1+,Kg2,Qd2+,Kh3,Qe2,b7,Qf1+,Kh4,Qh1,Qb6+,Kg7,Qc7+,Kf6,Qb6+,Kf7,Qc7+,Kf6,Qd8+,Kf7,Qd7+,Kf6,b8=Q', 'Qxh2+,Qh3,g5+,fxg5+,hxg5+,Kg4,Qe2#', 'https://lichess.org/training/bpRK8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bpRU6', 'Rapid', 'nandanm98', 1652, 'ck208', 1671, 'e4,c6,Nf3,d5,exd5,cxd5,d4,Nf6,Be2,g6,Nc3,Bg7,Be3,O-O,Qd2,Nc6,Bh6,Qb6,Bxg7,Kxg7,Rb1,Bf5,O-O,Rfe8,Nd1,e5,dxe5,Nxe5,Nxe5,Rxe5,Bd3,Bxd3,Qxd3,Rae8,Nc3,d4,Na4,Qd6,b3,Re4,Nb2,Ng4,g3,Nxf2,Rxf2,Re1+,Rxe1,Rxe1+,Kg2,Qd5+,Rf3,Re3,Qd1,Qe4,Nd3,Re2+,Qxe2,Qxe2+,Rf2,Qe4+,Kg1,f5,a4,Qe7,h4,h6,Kg2,g5,hxg5,Qxg5,Rf4,Kf6,Nc5,b6', 'Ne4+,Ke5,Nxg5', 'https://lichess.org/training/bpRU6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BPToR', 'Rapid', 'TrapAdvisor', 1620, 'Ardbegformore', 1621, 'e4,d5,exd5,Nf6,d4,Qxd5,c4,Qe6+,Be2,c6,Nf3,Na6,Na3,g6,Bg5,Bg7,O-O,O-O,Nc2,Rd8,Re1,Nc5,Bd3,Qd7,Ne5,Qd6,dxc5,Qxc5,b4,Qb6,c5,Qc7,Qf3,Bg4,Qg3,h5,Bd2,Ne4,Bxe4,Bxe5,Qe3,Bxh2+,Kf1,f5,Bd3,f4,Qxe7', 'Qxe7,Rxe7,Rxd3', 'https://lichess.org/training/BPToR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BpTwF', 'Rapid', 'ZAFIRO1', 1931, 'Lethani', 2394, 'e4,c5,d3,Nc6,Nf3,g6,a3,Bg7,Nc3,Nf6,h3,O-O,Be3,d6,h4,a6,h5,Nxh5,Qd2,Re8,Be2,Nf6,Bh6,Bh8,Bg5,e6,Bxf6,Qxf6,Ng5,h5,g4,hxg4,Nh7,Qg7,Ng5,Ne5,O-O-O,Qf8,Rh7,Bg7,Rdh1,b5,Qf4,f6,Rh8+,Bxh8,Rxh8+,Kxh8', 'Qh2+,Qh6,Qxh6+', 'https://lichess.org/training/BpTwF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bpWRj', 'Rapid', 'Tsarukyan', 1750, 'Sicilian_Offence', 1710, 'b3,e5,Bb2,Nc6,g3,d5,Bg2,Nf6,d3,Bc5,a3,Be6,b4,Bb6,e3,Qd7,Ne2,O-O,c3,Rfe8,Nd2,a6,c4,dxc4,dxc4,Rad8,c5,Ba7,Nf3,Qxd1+,Rxd1,Rxd1+,Kxd1,Rd8+,Ke1,e4,Ng5,Bd5,Bxf6,gxf6,Bxe4', 'fxg5,Bxd5,Rxd5', 'https://lichess.org/training/bpWRj');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bPwXU', 'Rapid', 'stamatis_gk', 1716, 'Novum', 1749, 'd4,d5,e4,dxe4,Nc3,Nf6,f3,exf3,Qxf3,e6,a3,Nc6,Bb5,Bd7,Nge2,a6,Ba4,b5,Bb3,Be7,Be3,O-O,O-O,Re8,h3,Na5,Ba2,Bc6,d5,Nxd5,Bxd5,exd5,Nd4,Bb7', 'Qxf7+,Kh8,Ne6', 'https://lichess.org/training/bPwXU');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BPzsx', 'Blitz', 'MarianczeLLini', 1646, 'Milanche', 1675, 'e4,e5,Nf3,Nc6,Bc4,d6,c3,h6,h3,Nf6,Qe2,Be7,O-O,Be6,Bxe6,fxe6,d3,O-O,Be3,Nh7,Nbd2,Ng5,Rac1,Nxf3+,Nxf3,Bg5,Nxg5,hxg5,Qg4,Qe7,Qxg5,Qf7,f4,exf4,Rxf4,Qd7,Rcf1,Rxf4,Qxf4,Ne5,d4,Nd3,Qg4,Rf8,Rxf8+,Kxf8,Qf3+,Kg8,Qe2,Ne5,dxe5,dxe5,Qd2,Qf7,Qd8+,Kh7,Qh4+,Kg8,Qf2,Qg6,Qf3,b6,a4,c5,Kf2,Qe8,b3,Qc6,c4,a6,Qd1,b5,Qd8+,Kh7,axb5,axb5,cxb5,Qxb5,Qd1,c4,bxc4,Qxc4,Qd2,Qxe4,g4,Qh1,Kg3,Qe4,Kh4,Kg6,Qf2,Qd5,Qg3', 'Qd8+,g5,Qh8+,Kg4,Qh5#', 'https://lichess.org/training/BPzsx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bpzZm', 'Classical', 'ml142857', 1602, 'yoldowev_ismoil2010', 1813, 'e4,c5,f4,Nc6,Nf3,d6,c3,Bd7,d3,Nf6,Be2,e5,f5,Be7,O-O,O-O,Bg5,Qb6,Qd2,c4+,d4,exd4,cxd4,Nxe4,Qe3,Nxg5,Nxg5,Bxg5,Qxg5,Qxd4+,Kh1,Qxb2', 'f6,Qxf6,Rxf6', 'https://lichess.org/training/bpzZm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BQ04J', 'Rapid', 'canicas2', 1881, 'campesin', 1936, 'e4,c5,Bc4,e6,Nf3,a6,d4,b5,Be2,c4,e5,Bb7,Bg5,Be7,Be3,f6,b3,cxb3,axb3,fxe5,Nxe5,Nf6,Rg1,O-O,Nc3,Bb4,Bd2,Qc7,Na2,Bxd2+,Qxd2,Ne4,Qe3,Nxf2,Rf1,Ne4', 'Rxf8+,Kxf8,Qf4+,Nf6,Ng6+,hxg6,Qxc7', 'https://lichess.org/training/BQ04J');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bQ1ze', 'Rapid', 'kojiro963', 1941, 'RachitAka', 1907, 'e4,e5,Nf3,f6,Bc4,c6,Nc3,d5,exd5,cxd5,Bxd5,Ne7,Bb3,Nbc6,d3,Bg4,h3,Bh5,Ba4,Nf5,g4,Bc5,Bxc6+,bxc6,gxh5,Qb6,Ne4,Bd4,c3,Bc5,Nxc5,Qxc5,Qe2,O-O,Be3,Qb5,a4,Qb7,h6,g6,h4,Rab8,b4,Rfd8,a5,Qd7,Rd1,a6,h5,Qd5,hxg6,hxg6,h7+,Kh8,Nh4', 'Qxh1+,Kd2,Qxh4', 'https://lichess.org/training/bQ1ze');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bq1ZW', 'Blitz', 'utkalranjansahoo', 2487, 'CM PEDROPALTA', 2460, 'd4,d5,c4,c6,Nc3,Nf6,cxd5,Nxd5,Bf4,Nxf4,e3,Nd5,Bc4,e6,Nf3,Nd7,O-O,N7f6,Re1,Bb4,Qc2,O-O,e4,Nb6,Bd3,h6,Re3,Bxc3,bxc3,Ng4,Ree1,Qc7,h3,Nf6,e5,Nfd5,Re4,f5,exf6,Nxf6,Rh4,Qe7,Ne5,Rd8,Re1,Nbd5,Qc1,Bd7,Ng6,Qf7,Ne5,Qf8,Ng6,Qe8,Re5,Ne7,Nf4,Nf5', 'Bxf5,exf5,Rxe8+', 'https://lichess.org/training/Bq1ZW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bq9Bk', 'Rapid', 'book_fan', 1708, 'PATOSO9', 1732, 'c4,c5,g3,Nc6,Bg2,Nf6,Nc3,e6,e4,Ne5,d3,Qa5,Bd2,Nxd3+,Ke2,Nxb2,Qb3,Qb4,Rb1,Qxb3', 'axb3,Nxc4,bxc4', 'https://lichess.org/training/bq9Bk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bqbaI', 'Blitz', 'FM chessm1105', 2556, 'CM zim36', 2360, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,Nf6,Nc3,d6,Bg5,e6,Qd3,a6,Nxc6,bxc6,O-O-O,Be7,Qg3,e5,Be2,Qa5,Bxf6,gxf6,Bh5,Be6,Qg7,Rf8,a3,d5,exd5,cxd5,Bg4,d4,Ne4,f5,Nf6+,Bxf6,Qxf6,fxg4,Rhe1,Rc8,Rxe5,Qc7', 'Rxe6+,fxe6,Qxe6+,Qe7,Qxc8+', 'https://lichess.org/training/bqbaI');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BqBDz', 'Rapid', 'S64_Nagar_Jignesh', 1673, 'S62_Bhadada_Hardik', 1673, 'e4,d5,Bd3,Nf6,Nc3,dxe4,Nxe4,Bf5', 'Nxf6+,exf6,Bxf5', 'https://lichess.org/training/BqBDz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BQBQE', 'Blitz', 'DFErkim', 1736, 'Pias', 1738, 'd4,d5,Bf4,Bf5,e3,e6,Bd3,Bd6,Bxf5,Bxf4,Bxe6,fxe6,exf4,Nf6,Nd2,O-O,Ne2,Nbd7,O-O,c5,c3,Rc8,Re1,Qb6,Rb1,cxd4,cxd4,Rc7,Nf3,Rfc8,Ne5,Nxe5,fxe5,Ne4,Ng3,Nxg3,fxg3,Rc4,Qf3,Qxd4+,Kh1,h6,Rbd1,Qxb2,Rf1,Qxe5,Qf7+,Kh8,Qxb7,Qe2,Rde1,Qd2,Rxe6,Rc2,Rg1,Rf8,Re7,Qf2,Rxg7', 'Qxg1+,Kxg1,Rc1#', 'https://lichess.org/training/BQBQE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bqcEw', 'Classical', 'SCRA', 1798, 'Zamperlini', 1737, 'd4,Nf6,c4,d5,Nc3,g6,Nf3,Bg7,h4,h5,Bg5,O-O,Bxf6,Bxf6,Nxd5,Bg4,g3,Bxf3,exf3,Bg7,Qb3,Nc6,O-O-O,Nxd4,Qxb7,Nxf3', 'Nf6+,Bxf6,Rxd8,Raxd8,Qxf3', 'https://lichess.org/training/bqcEw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BQdER', 'Rapid', 'My_brokensoul', 1996, 'estiloquio', 1990, 'e4,c6,Nc3,d5,exd5,cxd5,d4,Nf6,Nf3,Nc6,Bd3,Bg4,O-O,e6,Kh1,Bd6,h3,Bh5,g4,Nxg4,hxg4,Bxg4,Kg2,Nxd4,Be2,Nxe2,Qxe2,Qf6,Qe3,Bc5,Qd3,Rc8,Nh2,Bf5,Qb5+,Kf8,Qxb7,Rd8,Qb5,Bb6,Qe2,Bc7,f4,Qh6,Qf2,Bh3+,Kh1,Bxf1,Qxf1,Ke7,Qg2,f5,Bd2,Rhf8,Re1,Rf6', 'Nxd5+,Rxd5,Qxd5', 'https://lichess.org/training/BQdER');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BQDwE', 'Classical', 'iLikeBishops', 1997, 'FreddyTheF-Pawn', 1982, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,Bb4,cxd5,exd5,Bg5,h6,Bh4,g5,Bg3,Ne4,Nd2,Nxc3,bxc3,Bxc3,Rc1,Ba5,Qa4+,c6,Qc2,Qf6', 'Be5,Qe7,Bxh8', 'https://lichess.org/training/BQDwE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bqEn8', 'Blitz', 'Adjiebparadox', 1848, 'DaFunkhouser', 2163, 'c4,e5,e3,Nc6,d4,exd4,exd4,d5,Nf3,Bg4,Be2,Nf6,O-O,Be7,h3,Bxf3,Bxf3,dxc4,Re1,O-O,Bxc6,bxc6,Nc3,Nd5,Qf3,Bf6,Be3,Rb8,Rab1,Nb4,a3,Nd3,Re2,Bxd4,Bxd4,Qxd4,Re4,Qd6,Rxc4,Nxb2,Rxc6,Qd3,Qxd3,Nxd3,Rxb8,Rxb8,Rxc7,a5,Nd5,h6,Ne7+,Kh7,Nf5,Kg6,Nd6,Rb1+,Kh2,f5,Ne8,Nxf2', 'Rxg7+,Kh5,Nf6+,Kh4,g3#', 'https://lichess.org/training/bqEn8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bqERk', 'Rapid', 'Rontastic', 1799, 'Electrik_96', 1817, 'e4,e5,Nf3,Nc6,Bc4,Bc5,d3,h6,Nc3,a6,a3,Qf6,Nd5,Qd8,Nb4,Nxb4,axb4,Bxb4+,c3,Bc5,Nxe5,d6,Qf3,Qf6,Bxf7+,Ke7,Qxf6+,Nxf6,d4', 'dxe5,dxc5,Kxf7', 'https://lichess.org/training/bqERk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BQFa2', 'Bullet', 'magnussamuel1987', 2214, 'Pavvell', 2202, 'e4,d5,exd5,Nf6,d4,Bg4,f3,Bf5,Bd3,Qxd5,c4,Qd7,Nc3,Nc6,Nge2,O-O-O,Be3,Nb4,Nc1,Nxd3+,Nxd3,Bxd3,Qxd3,e6,O-O-O,c5,d5,exd5,cxd5,Bd6,Bg5,Be5,Bxf6,Bxf6,Ne4,Bd4,b4,Kb8,bxc5,Bxc5,Nxc5,Rc8,Qd4,b6,Kb1,Rxc5,d6,f6,Rhe1,Rd8,Re7,Qb5+,Ka1,Rc2,d7,Qa5,Qd6+,Kb7,Qd5+,Kc7,Qxa5,bxa5,Rxg7,h5,h3,h4,Kb1,Rc4,Rh7,a4,Rc1', 'Rb8+,Ka1,Rxc1#', 'https://lichess.org/training/BQFa2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bQfdN', 'Blitz', 'Nayarbonaparte', 2039, 'AlessanPraca7', 2035, 'e4,c5,d4,cxd4,Bc4,e6,Nf3,Nc6,O-O,d6,c3,Nf6,Bg5,Be7,Re1,dxc3,Nxc3,a6,Rc1,O-O,Bd3,h6,Be3,b5,Bb1,Bb7,a3,Na5,e5,dxe5,Qc2,e4,Ne5,Qc7,f4,exf3,Ng4,Rfc8,Nxf6+,Bxf6,Qh7+,Kf8,Ne4,Qe5,Bc5+,Rxc5,Rxc5,Qxb2', 'Qh8+,Ke7,Rc7#', 'https://lichess.org/training/bQfdN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BQg6l', 'Blitz', 'Avagyan2008', 2172, 'CM kakovski', 2224, 'c4,f5,Nc3,Nf6,g3,g6,Bg2,Bg7,e3,d6,Nge2,e5,O-O,O-O,d4,e4,f3,exf3,Bxf3,Re8,Nf4,Nc6,Nfd5,Nxd5,Nxd5,Ne7,b3,Nxd5,Bxd5+,Kh8,Re1,c6,Bg2,Qf6,Bb2,Bd7,Rb1,Qg5,Qd3,Re7,e4,fxe4,Rxe4,Rae8,Rbe1,Bf5,Rxe7,Rxe7,Qd1,Bg4,Qc1,Qxc1,Rxc1,Re2,Bc3,Rxa2,Re1,Kg8,Re7,c5', 'Bd5+,Kf8,Rf7+,Ke8,Rxg7', 'https://lichess.org/training/BQg6l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BQgXW', 'Classical', 'Kuvvetli', 1840, 'Kurin', 1885, 'e4,Nc6,d4,d5,exd5,Qxd5,Nf3,e5,c4,Qe4+,Be3,exd4,Nxd4,Bb4+,Nc3,Bxc3+,bxc3,Bd7,Qd3,Nf6,Qxe4+,Nxe4,Bd3,Nxc3,O-O,O-O-O,a4,Nxa4,Rxa4,Nxd4,Rxa7,Bf5,Ra8+,Kd7,Bxf5+,Nxf5,Rd1+,Ke7,Bc5+,Nd6,Bxd6+,Rxd6', 'Re1+,Kf6,Rxh8', 'https://lichess.org/training/BQgXW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BqICr', 'Rapid', 'Cardinio', 1786, 'KURT-CEBE', 1830, 'd4,Nf6,c4,e6,Nf3,d5,Nc3,Bb4,Bf4,c5,a3,Bxc3+,bxc3,Nbd7,Ne5,O-O,e3,Nxe5,Bxe5,dxc4,Bxc4,cxd4,cxd4,a6,O-O,b5,Bd3,Bb7,Rc1,Qd5,f3,Ng4,Qd2,Nxe5,Rc5,Qd6,Rxe5,f6,Rc5,Rfd8,Qc3,e5,Rd1,exd4,exd4,Qxd4+', 'Qxd4,Rxd4,Bxh7+,Kxh7,Rxd4', 'https://lichess.org/training/BqICr');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bQjTg', 'Rapid', 'd4samuel', 2055, 'Adoptowanyfuczek', 1915, 'd4,Nf6,c4,c5,d5,b5,cxb5,a6,bxa6,g6,Nc3,Bxa6,e4,Bxf1,Kxf1,d6,Nge2,Bg7,g3,O-O,Kg2,Na6,Qc2,Qb6,b3,Nb4,Qd2', 'Nxe4,Nxe4,Bxa1', 'https://lichess.org/training/bQjTg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bQjtw', 'Rapid', 'Zigomar', 1652, 'vitor222', 1709, 'e4,e5,f4,Nc6,Nf3,exf4,Bc4,Qe7,O-O,Nf6,d4,d6,Ng5,Bg4,Qd3,Nb4,Qb3,O-O-O,Qxb4,d5,Qxe7,Bxe7,exd5,Nxd5,Nxf7,Ne3,Bxe3,fxe3,Nxh8,Rxd4,Bd3,e2,Re1,Bb4,c3,Rxd3,Kf2', 'Bc5#', 'https://lichess.org/training/bQjtw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BQkJz', 'Rapid', 'SANDRO1953', 1692, 'alex9104', 1689, 'e4,e6,d4,d5,exd5,exd5,c3,Nf6,Bg5,Be7,Qe2,O-O,Nf3,Re8,Be3,Bg4,Nbd2,c6,O-O-O,Qa5,Kb1,b5,Nb3,Qa4,h3,Bf5+,Ka1,b4,cxb4,Qxb4,Ne5,a5,Qd2,Qb6,g4,Be4,Rg1,a4,Nc5,a3,b3,Bxc5,dxc5,Qc7,f4,Rxe5,fxe5,Qxe5+,Bd4,Qc7,Bxf6,gxf6,Bd3', 'Qe5+,Kb1,Bxd3+,Qxd3,Qb2#', 'https://lichess.org/training/BQkJz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bqnV1', 'Rapid', 'stoffels', 1698, 'ufim', 1897, 'd4,Nf6,Nf3,b6,Bf4,Bb7,e3,e6,Be2,c5,c3,cxd4,cxd4,Nc6,a3,Nh5,O-O,Nxf4,exf4,Bd6,Ne5,f6,Nxc6,Bxc6,g3,h5,Bxh5+,Ke7,Bf3,Rh6,Bxc6,dxc6,Nd2,Qc7,Ne4,Rah8,h4,f5,Nxd6,Qxd6,Kg2,Rg6,Kh3,Rg4,f3,Rg6,Rg1,Rgh6,Kg2,Rd8,Rc1,Qxd4,Qxd4,Rxd4,Rgd1,Rxd1,Rxd1,c5,Kf2,Rh8,Ke3,g6,b3,a6,Rd2,Rc8,Rc2,Kf6,g4,fxg4,fxg4,e5,fxe5+,Kxe5,Kf3,Rf8+,Kg3,Rf4', 'Re2+,Re4,Rxe4+,Kxe4,h5', 'https://lichess.org/training/bqnV1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bQP6T', 'Blitz', 'lucumpe04', 2317, 'FM labestia2017', 2529, 'e4,c6,d4,d5,Nc3,a6,Nf3,Bg4,e5,e6,Bd3,c5,dxc5,Bxc5,h3,Bh5,g4,Bg6,Ne2,Qb6,O-O,Nc6,Nf4,Nge7,a3,Qc7,Qe2,Bxd3,Nxd3,Bb6,Be3,h5,c3,hxg4,hxg4,Ng6,Bxb6,Qxb6,Kg2,Qb5,Rae1', 'Qxd3,Qxd3,Nf4+,Kg3,Nxd3', 'https://lichess.org/training/bQP6T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bQPmK', 'Rapid', 'caminante', 1687, 'usu_shio', 1710, 'e4,e5,Nf3,Nc6,Bb5,Nf6,Bxc6,dxc6,d3,Bd6,h3,O-O,Bg5,Re8,Nc3,h6,Bxh6,gxh6,Qd2,Kg7,Nh4,Nxe4,dxe4,Qxh4,O-O-O,Bb4,a3,Bxc3,Qxc3,Qxf2,h4,Qf4+,Kb1,Qxe4,Rde1,Qd5,h5,Kf8,Qe3,Qd6,Rhf1,a5,Rf4,Bd7,Rf3,Bg4,Rf2,Bxh5,Ref1,b5,Rf6,Qd5', 'Qxh6+,Ke7,Qxh5', 'https://lichess.org/training/bQPmK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bQpn6', 'Classical', 'mikeraya', 1918, 'asiyamohamed', 1898, 'd4,e6,Bf4,d6,e3,Nd7,c3,e5,dxe5,dxe5,Bg3,Ngf6,h3,c6,Bc4,Be7,Nd2,e4,Ne2,O-O,O-O,Nb6,Bb3,Bd6,Bxd6,Qxd6,Ng3,Qe5,f3,Qxg3,fxe4,Qxe3+,Kh2,Rd8,Nc4,Rxd1,Raxd1,Qxe4,Rd8+,Ne8,Nd6,Qe5+,Kh1,Qxd6,Rxe8+,Qf8', 'Bxf7+,Kh8,Rxf8#', 'https://lichess.org/training/bQpn6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BqqQQ', 'Blitz', 'PredatorDPG', 1513, 'Tuluz_p1000', 1673, 'e4,e5,f4,d6,fxe5,Qh4+,g3,Qxe4+,Qe2,Qxh1,exd6+,Be6,dxc7,Nc6,d3,Qxg1,Nd2,Bd6,Nf3,Qb6,b3,Qxc7,c4,Nge7,Bb2,O-O,O-O-O,Rfe8,Ng5,Nb4,a3,Nbc6,Nxe6,fxe6,Qxe6+,Kh8,Re1,h6', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/BqqQQ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BQRba', 'Rapid', 'rashid__alhammadi', 1891, 'arsenkenian', 1781, 'e4,e5,Nf3,Nc6,Bc4,Bc5,c3,Nf6,d3,O-O,O-O,d6,d4,exd4,cxd4,Bb4,Qb3,a5,a3,a4,Qc2,Ba5,e5,dxe5,dxe5,Ng4,Ng5,g6,e6,fxe6,Nxe6,Bxe6', 'Bxe6+,Kg7,Bxg4', 'https://lichess.org/training/BQRba');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bqrXs', 'Rapid', 'massaf4', 1783, 'Alvaro64', 2068, 'e4,e6,d4,d5,Nd2,Nf6,exd5,exd5,Ndf3,c5,c3,Nc6,Bb5,Qb6,Qe2+,Be7,Ne5,O-O,Bxc6,bxc6,Ngf3,Ba6,Nd3,cxd4,Nxd4,Bc5,Be3,Rfe8,O-O,Bxd4,cxd4,Qxd4,Bxd4,Rxe2,Nc5,Bc4,b3,Rd2,Bxf6', 'Bxf1,Bg5,Rc2', 'https://lichess.org/training/bqrXs');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bqRzx', 'Blitz', 'greatshakh33', 1757, 'Shirosewich', 2057, 'e4,e6,Nc3,d5,exd5,exd5,d4,Nc6,Nf3,Bg4,Be2,Bb4,Bd2,Nge7,h3,Bh5,a3,Bd6,O-O,Qd7,b4,f6,b5,Nd8,a4,O-O,Qb1,c6,Qb3,Bc7,a5,Qd6,g3,Bxf3,Bxf3,Nf5,Bf4,Qd7,bxc6,bxc6,Bxc7,Qxc7,Bg4,Nxd4,Qb2,f5,Bd1,f4,Nxd5,Qe5,c3,fxg3,cxd4,gxf2+,Rxf2,Qg3+,Rg2,Qe1+,Kh2,cxd5,Bb3,Qe4,Qa2,Qf4+,Kg1,Kh8,Bxd5,Rc8,Qf2', 'Rc1+,Rxc1,Qxc1+,Kh2,Rxf2', 'https://lichess.org/training/bqRzx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BQSnl', 'Blitz', 'IM italian5', 2392, 'Kazakh_Fighter', 2378, 'Nf3,Nf6,c4,c5,Nc3,g6,d4,cxd4,Nxd4,Bg7,e4,d6,Be2,O-O,Be3,Nc6,O-O,e5,Nc2,Be6,b3,a6,f3,Rc8,Qd2,Ne8,Rab1,f5,Rfd1,f4,Bf2,g5,Nd5,h5,Nb6,Rc7,c5,g4,Bc4,Bxc4,Nxc4,Qg5,Kf1,dxc5,Bxc5,Rff7,Bb6,Rce7,Nd6,Rd7,Nxf7,Rxf7,Qe2,Qh4,Bg1,g3,h3,Nf6,Rd6,Nh7,Rbd1,Ng5,Rd7,Rxd7,Rxd7,Nxh3,gxh3', 'Qxh3+,Qg2,Qxd7', 'https://lichess.org/training/BQSnl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BqsVD', 'Rapid', 'naikus', 1830, 'mindovermatterMANA', 1774, 'd4,e6,c4,Nf6,Nc3,Bb4,Bd2,Bxc3,Bxc3,c6,Nf3,a5,e3,d5,cxd5,cxd5,Bb5+,Bd7,Bxd7+,Nbxd7,Rc1,O-O,O-O,Ne4,Nd2,Nxc3,Rxc3,b5,a3,Nb6,Rc5,Qd7,Qb3,Nc4,Nxc4,bxc4,Qc3,Qa4,b4,cxb3,Qb2,Rab8,Rfc1,h6,R5c3,Rb7,Rc8,Rxc8,Rxc8+,Kh7,Qb1+,g6,Qb2,Qd7,Rc3,Qa4,Rc8,Kg7,e4,Rd7,e5,Qb5,Rc3,Rb7,Rc5,Qd3,h3,Qc2', 'Rxc2,bxc2,Qxc2', 'https://lichess.org/training/BqsVD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bQt0l', 'Rapid', 'Chessinpol', 1956, 'Albert12139', 1965, 'e4,e5,Nf3,d6,Bc4,Be7,O-O,Nf6,Nc3,O-O,d4,exd4,Nxd4,Nxe4,Bxf7+,Rxf7,Nxe4,d5,Ng3,g6,Re1,c6,Nf3,Bd6,Ne2,Bg4,Nfd4,c5,h3,Bxe2,Nxe2,Nc6,c3,Ne7,g3,Qd7,Nf4,Bxf4,Bxf4,Qxh3,b4,cxb4,cxb4,Raf8,Rxe7,Rxe7,Bd6,Rfe8,Bxe7,Rxe7,Qxd5+,Qe6,Qd8+,Re8,Qd4,a6,Rc1,Qxa2', 'Rc7,Qf7,Rxf7', 'https://lichess.org/training/bQt0l');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bqt89', 'Rapid', 'harshvora', 1794, 'rahulchavhan123', 1727, 'e4,e6,d4,d5,Nc3,Bb4,exd5,Bxc3+,bxc3,exd5,Nf3,Bg4,h3,Bh5,c4,dxc4,Bxc4,Ne7,Bg5,f6,Be3,Nd7,O-O,c6,c3,Nd5,Bxd5,cxd5,Re1,O-O,g4,Bf7,Qd2,Qc7,Rab1,Rac8,Bf4,Qxc3,Qxc3,Rxc3,Kg2,b6,Re7,Bg6,Rb5,Rd8,Rxd5,Be8,Rxe8+,Rxe8,Rxd7,a5,Rb7,Re6,Bc7,Re7,Rb8+,Kf7,Bxb6,Rc2,a3,Rb2,d5,g6,Nd4,Rd7,Nc6,Rxd5,Bxa5', 'Rxb8,Nxb8,Rxa5', 'https://lichess.org/training/bqt89');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bQTwz', 'Rapid', 'conditionsIM', 1830, 'Luch30', 1937, 'e4,e5,f4,d5,exd5,c6,Nc3,cxd5,fxe5,d4,Nce2,Qh4+,Ng3,Bc5,Nf3,Qg4,Bc4,Ne7,d3,O-O,O-O,Nbc6,Bd2,h5,Bg5,Ng6,Ne4,Be7,Bxe7,Ngxe7,h3,Qg6,Qd2,Bxh3,Nh4,Qg4,Rf4,Qc8,gxh3,Nxe5,Bb3,Qxh3,Qh2,Qe3+,Kh1,Ng4,Qg3,Qxg3,Nxg3,g5,Rxd4,gxh4,Nxh5,Ne5,Rg1+,N7g6,Re4,Kh8,Nf4,Nxf4,Rxf4,Rg8', 'Rxh4#', 'https://lichess.org/training/bQTwz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BQtx6', 'Rapid', 'saleh988younes', 1861, 'vukovicw', 1777, 'e4,b6,Nf3,Bb7,Nc3,e6,d4,Bb4,Bd3,Nf6,Bg5,h6,Bxf6,Qxf6,O-O,d6,e5,dxe5,Nxe5,a6,Be4,c6,Re1,O-O,a3,Bd6,b4,Rd8,Qf3,Bxe5,dxe5,Qxf3,Bxf3,a5,b5,Rd2,Na4,Rxc2,Nxb6,Ra7,Rad1,f5,Rd8+,Kh7,Rxb8,Rc3,bxc6,Bxc6,Rc8,Rxf3,Rxc6,Rxa3,Rxe6,Rb3,Nd5,a4,Re7', 'Rxe7,Nxe7,a3,Nd5,a2,Nc3,Rxc3', 'https://lichess.org/training/BQtx6');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bQtYM', 'Blitz', 'Tuviejalacangreja', 1662, 'Amel1962', 1565, 'e4,e5,Bc4,Nc6,Nf3,Nf6,d3,d6,Ng5,d5,exd5,Nxd5,Qf3,Qd7,Bxd5,f6,Nh3', 'Nd4,Qe4,Nxc2+,Kd1,Nxa1', 'https://lichess.org/training/bQtYM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BQuaf', 'Blitz', 'RMA007', 2164, 'momebnebnie', 2055, 'e4,c5,Nf3,Nc6,Nc3,Nf6,d4,cxd4,Nxd4,e5,Nxc6,bxc6,Bd3,d5,O-O,d4,Ne2,Bd6,f4,c5,b3,O-O,f5,a5,Rf3,Kh8,Rh3,Ba6,Ng3,Bxd3,cxd3,Qb6,Nh5,Nxh5,Qxh5,h6,Bxh6,g6,Bg7+,Kxg7,Qg5,Rh8', 'f6+,Kg8,Rxh8+,Kxh8,Qh6+,Kg8,Qg7#', 'https://lichess.org/training/BQuaf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BQVyf', 'Rapid', 'HClay', 1823, 'edicat', 1765, 'd4,d5,Bf4,Bf5,Nf3,Nf6,e3,e6,Bd3,Bg4,Be2,c5,c3,Nc6,O-O,Bd6,Bxd6,Qxd6,Nbd2,c4,h3,Bh5,Nh2,Bg6,Ng4,e5,Nf3,Nxg4,hxg4,e4,Nh4,Ne7,b3,Qf6,g3,b5,bxc4,bxc4,Rb1,O-O,f3,Qd6,f4,f5,Nxg6,hxg6,g5,Rfb8,Qc2,Kf7,Kg2,Rh8,Rb7,Rhb8,Rfb1,Rxb7,Rxb7,a5,Qb2,a4,a3,Qc6,Bd1,Qe8,Qb4,Ra6,Qb5,Qxb5,Rxb5,Ra7,Rb4,Nc6,Rb6,Ne7,Rb5,Ke6,g4,fxg4,Bxg4+,Kd6,Rb6+,Nc6,Bc8', 'Kc7,Rb5,Kxc8', 'https://lichess.org/training/BQVyf');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bqxkX', 'Rapid', 'jordanatkinsom888', 1885, 'Abcsv', 1751, 'e4,e6,Bc4,d5,exd5,exd5,Bb3,Nf6,d4,Bd6,Nf3,O-O,O-O,Re8,c4,c6,Nc3,Bg4,h3,Bh5,Qd3,Bg6,Qd1,Bh5,Bg5,h6,Bh4,Nbd7,cxd5,g5,Bg3,Bxg3,fxg3,Nxd5,Nxd5,cxd5,Bxd5,Qb6,b3,Rad8,g4,Bg6,Bc4,Ne5,Kh1,Nxf3,Qxf3,Re7,d5,Kg7,Rae1,Rde8,Rxe7,Rxe7,Qc3+,Kg8,a4,Qd6,a5,Be4,Qd4,Qg3,Rf2', 'Bxg2+,Rxg2,Re1+', 'https://lichess.org/training/bqxkX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BQXwS', 'Blitz', 'lua2020', 1972, 'WFM Idrisova_Roza', 2224, 'e4,c6,d4,d5,Nc3,a6,Bd3,dxe4,Bxe4,Nf6,Bf3,Bf5,Nge2,e6,Ng3,Bg6,O-O,Be7,Nge4,Nbd7,Re1,O-O,h3,h6,Bf4,Nxe4,Nxe4,Nf6,c3,Qb6,Qb3,Qxb3,axb3,Nxe4,Bxe4,Bxe4,Rxe4,Rad8,Bc7,Rd7,Bb6,Bf6,Rae1,Rc8,b4,h5,f4,g6,g4,hxg4,hxg4,Kg7,Kg2,Rh8,Rh1,Rxh1,Kxh1,Bd8,Bxd8,Rxd8,Kg2,Rh8,f5,Kf6,fxe6,fxe6,Rf4+,Ke7,g5,Rh5,Rg4,Kd6,Kf3,e5,Ke3,exd4+,Rxd4+,Ke6,Kf4', 'Rh4+,Ke3,Rxd4,Kxd4,Kf5', 'https://lichess.org/training/BQXwS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bQyrE', 'Rapid', 'pojebalbytopes', 1739, 'monah11', 1605, 'e4,c5,Nc3,e6,Nf3,Nc6,d4,cxd4,Nxd4,a6,Nxc6,bxc6,e5,Ne7,Bg5,Qb6,Na4,Qa5+,Nc3,Qxe5+,Be3,Nf5,Qh5,g6,Qg5,Be7,Qf4,Qa5,Bc4,Nxe3,Qxe3,d5,Bb3,c5,Qh6,d4,Qg7,Rf8,O-O,dxc3,bxc3,h5,Rad1,Qb6', 'Ba4+,Qb5,Bxb5+', 'https://lichess.org/training/bQyrE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bqZvd', 'Rapid', 'misterx1', 1764, 'phdlec81', 1844, 'e4,e5,Nf3,d6,d4,exd4,Nxd4,Nf6,Nc3,Be7,h3,O-O,Be3,c5,Nf5,Bxf5,exf5,Nc6,Qf3,a6,O-O-O,Qc7,g4,Ne5,Qg3,Qc6,Bg2,Qc7,f4,Nc4,g5,Nh5,Qf3,Qb6,b3,Nxe3,Qxe3,Rae8,Qf3,g6,fxg6,fxg6,Qd5+,Kh8,Ne2,Nxf4,Nxf4,Rxf4,h4,Rf5,Qxb7,Qxb7,Bxb7,a5,Rhe1,Rf7,Rxd6', 'Bxg5+,hxg5,Rxe1+', 'https://lichess.org/training/bqZvd');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bR15N', 'Rapid', 'CelsoH', 2001, 'Maksonych1983', 1881, 'e4,e6,Nf3,d5,exd5,exd5,h3,Nf6,d4,c5,Bb5+,Nc6,O-O,Qb6,Re1+,Be6,Bxc6+,bxc6,Ng5,cxd4,Nxe6,fxe6,Rxe6+,Be7,Qe1,Qc7,Bg5,Kf7,Nd2,c5,f3,h6,Bh4,Bd6,Re2,c4,Qf2,Bc5,Bg3,d3', 'Bxc7,Bxf2+,Rxf2', 'https://lichess.org/training/bR15N');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bR1iq', 'Rapid', 'pokermario', 1655, 'Mohammed_Ali1484', 1741, 'e4,g6,d4,Bg7,Nf3,Nf6,Nc3,O-O,h3,d5,Bd3,dxe4,Nxe4,Nxe4,Bxe4,Nc6,c3,f5,Bc2,e5,O-O,exd4,cxd4,Nxd4,Nxd4,Qxd4,Qxd4,Bxd4,Bh6,Bg7,Bxg7,Kxg7,Rad1,Be6,Rfe1,Bg8,Re7+,Rf7,Red7,b6,Bb3,Rxd7,Rxd7+,Kh8,Rxc7,Bxb3,axb3,Kg8,Kh2,h5,Kg3,Kf8,Kf4,Ke8,Kg5,Rd8,Rxa7,Rd2,Kxg6,Rxb2,Kxh5,Rxb3,Ra1,Kf7,Kg5,Rb2,Rf1,b5,Kxf5,b4,g4,b3,g5,Re2,g6+,Kg7,h4,b2,h5', 'Rxf2+,Rxf2,b1=Q+', 'https://lichess.org/training/bR1iq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Br36q', 'Blitz', 'Goscho', 1521, 'antonmarku2', 1544, 'd4,Nf6,c4,c5,dxc5,e5,Nc3,Bxc5,e4,b6,f3,Bb7,Bd3,Nc6,Nge2,O-O,Bc2,d6,Qd3,Nb4,Qd2,Nh5,a3,Nc6,Qd3,Nd4,Nxd4,Bxd4,Be3,Bxc3+,Qxc3,f5,O-O,f4,Bd2,Qh4,Be1,Ng3,Rf2,Rf6,Rd2,Qxh2+,Kxh2', 'Rh6+,Kg1,Rh1+,Kf2,Rf1#', 'https://lichess.org/training/Br36q');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('br3Nm', 'Blitz', 'chesslover19751', 2183, 'Royal_Cl', 2166, 'd4,Nf6,Nf3,e6,c4,d5,Nc3,dxc4,e4,Bb4,e5,Ne4,Qc2,Nxc3,bxc3,Be7,Bxc4,O-O,O-O,c5,Rd1,cxd4,cxd4,Nc6,Qe2,a6,a4,Qc7,Bg5,Bxg5,Nxg5,h6,Ne4,Rd8,Qg4,Bd7,Rd3,Nxe5,dxe5,Qxe5,Rad1,f5,Qh5,Qxe4,Rxd7,Rxd7,Rxd7,Qxc4', 'Qf7+,Kh8,Qxg7#', 'https://lichess.org/training/br3Nm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BR3SA', 'Rapid', 'JJ-Javitoh', 1683, 'Iranian-player', 1784, 'e3,g6,Na3,Bg7,d4,d5,c4,c6,Nf3,Nd7,cxd5,cxd5,Qb3,Ngf6,Bb5,O-O,Ne5,Nxe5,dxe5,Ne4,f3,Nc5,Qc3,Qb6,b4,Nd7,f4,a5,bxa5,Rxa5,Rb1,Nc5,Bd7', 'Rxa3,Qxa3,Qxb1', 'https://lichess.org/training/BR3SA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Br5yb', 'Blitz', 'hnrta1123', 1865, 'h3rmano', 1868, 'd4,d5,c4,Nc6,cxd5,Qxd5,e3,e5,Nf3,exd4,exd4,Bg4,Be2,O-O-O,Be3,Bb4+,Nc3,Nf6,O-O,Bxc3,bxc3,h5,h3,Be6,a4,Rhg8,a5,Nh7,a6,b6,c4,Qd7,c5,g5,cxb6,cxb6,Qc1,Kb8,Rd1,g4,hxg4,Bxg4,Ne5,Nxe5,dxe5,Qe7,Bxg4,Rxg4,Qc3,Rdg8,g3,h4,Bh6,hxg3,f3,Rh4,Qe3,g2,Rd6,Rh1+,Kf2,Rxa1,Rxb6+,Ka8', 'Qe4+,Qb7,Qxb7#', 'https://lichess.org/training/Br5yb');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Br7BY', 'Rapid', 'The1_CZ', 1795, 'MichiKi', 1835, 'd4,b6,Nf3,Bb7,c4,e6,Nc3,Bb4,Bd2,Nf6,a3,Bxc3,Bxc3,Ne4,e3,Nxc3,bxc3,O-O,g3,Qf6,Bg2,d6,O-O,Nd7,Ne1,Bxg2,Nxg2,h6,Qa4,Qe7,Qc6,Nf6,a4,Qd7,Qxd7,Nxd7,a5,Nf6,axb6,axb6,Nf4,Ne4,Ne2,Nd2,Rfd1,Nxc4,Kg2,d5,Nf4,Nd6,Rdc1,Ne4,Rxa8,Rxa8,c4,c6,cxd5,cxd5,Rc2,Kf8,Nd3,Ra7,Ne5,f6', 'Rc8+,Ke7,Nc6+,Kd7,Nxa7', 'https://lichess.org/training/Br7BY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bR7FZ', 'Blitz', 'kurdboy2020', 2015, 'monkins', 2338, 'd4,Nf6,Bf4,c5,dxc5,Qa5+,Nd2,Qxc5,Ngf3,g6,e3,Bg7,c3,O-O,Be2,d5,O-O,Nc6,a4,a5,Nd4,e5,Nxc6,exf4,Nd4,fxe3,fxe3,Re8,N2b3,Qe7,Nc2,Bf5,Nbd4,Be4,Bf3,Rad8,Bxe4,Nxe4,Rf3,f5,Qe2,Qd6,Re1,Qb6,Na3,Re7,Qd3,Nc5,Qc2,Rde8,Nab5,Ne6,Nxe6,Rxe6,Qd3,Qc5,g3,Bh6,Kf2,Qc4', 'Qxc4,dxc4,Nc7,Re5,Nxe8', 'https://lichess.org/training/bR7FZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('br7g8', 'Classical', 'Bart1406', 1627, 'willou', 1601, 'e4,e5,Nf3,Nc6,Bc4,Nf6,O-O,Nxe4,Re1,f5,d3,d5,Bb5,Nxf2,Kxf2,Bc5+,Kf1,e4,dxe4,fxe4,Bxc6+,bxc6,Bg5,Be7,Bxe7,Qxe7,Nd4,O-O+,Kg1,Qe5,c3,c5,Nb5,c6,N5a3,Qg5,Nc2,Bh3,g3,h5,Nd2,h4,Nf1,Bg4,Qc1,Qh5,Nce3,hxg3,Nxg3,Qh3,Qd2,g6,Nxg4,Qxg4,Qg2,Rf4,Rf1,Raf8,Rxf4,Rxf4,Rf1,g5,Rxf4,gxf4,Ne2', 'Qxg2+,Kxg2,f3+,Kf1,fxe2+', 'https://lichess.org/training/br7g8');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('brBFh', 'Rapid', 'summer_of_simon', 1897, 'Erisak', 1803, 'd4,e5,d5,a6,e4,Bc5,Nf3,d6,c4,Bg4,Nc3,Nf6,Be2,Bxf3,Bxf3,O-O,Qe2,c6,Be3,Bb4,O-O,c5,Qc2,Nbd7,Bd2,Nb6,b3,Rc8,Bg5,Bxc3,Qxc3,Nxe4,Bxd8,Nxc3,Bxb6,e4,Bg4,f5,Rfc1,Nxa2,Rxa2,fxg4,Re2,Rce8,Rce1,Rf4,g3,Rf3,Bc7,Rxb3,Bxd6,Rd3,Bxc5,Rc8,Bb6,Rxc4,Rxe4,Rxe4,Rxe4,Rxd5,Re7,a5,Rxb7,Rb5,Rb8+,Kf7,Bc7,Rxb8,Bxb8,a4,Bd6,Ke6,Ba3,Kd5,Kf1,Kc4,Ke2,Kb3,Be7,a3,Bxa3,Kxa3,Ke3,Kb4,Kf4,h5,f3,gxf3,Kxf3,Kc5,Kf4,Kd4', 'Kg5,Ke4,Kxh5', 'https://lichess.org/training/brBFh');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('brbke', 'Blitz', 'Anarchist_Order', 1928, 'IM CScheerer', 2357, 'c3,d5,Qc2,e5,d3,Nf6,e4,Nc6,Nd2,h6,Ngf3,Be6,h3,a6,Be2,Bd6,Nf1,O-O,g4,dxe4,dxe4,Ne7,Ng3,Ng6,Nf5,Bc5,Be3,Bxe3,fxe3,Nh7,h4,Ne7,Rd1,Qe8,Kf2,Nf6,g5,Ng4+,Kg3,h5,Qc1,Bxf5,exf5,Nxf5+,Kh3,Nfxe3,Rd3,Qe6,Rxe3,Nxe3+,Kg3,Qg4+,Kf2,Qf4,Qxe3,Qxe3+,Kxe3,f6,g6,Rfd8,Nd2,f5,Bxh5,Kf8,Be2,Ke7,Nc4,Ke6,h5,b5,Nd2', 'f4+,Ke4,Rxd2', 'https://lichess.org/training/brbke');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BrbOm', 'Blitz', 'TimGti', 1833, 'bekooltrader', 1818, 'd4,Nf6,c4,d5,Nc3,Bf5,e3,e6,Nf3,Bb4,Be2,Bxc3+,bxc3,Bg4,cxd5,Nxd5,Qc2,Nd7,Ba3,N7f6,c4,Ne7,O-O,O-O,h3,Bh5,Rab1,b6,Rfe1,Bg6,Bd3,Bh5,Be2,Re8,Qc3,Nc6,Bb2,Ne4,Qc1,f5,a3,Rf8,c5,Ne7,cxb6,cxb6,Ba6,Bxf3,gxf3,Nd6,Qc3,Ng6,d5,Qg5+,Kf1,e5,Ke2,f4,Rg1,Qh6,Qc6,Rad8,Rg4,fxe3,fxe3,Qxh3,Rbg1,Qh2+,R4g2,Qh6,Bd3,e4,fxe4,Nxe4,Rxg6,hxg6,Qxg6,Qh2+,Rg2,Rf2+,Rxf2', 'Qxf2+,Kd1,Qd2#', 'https://lichess.org/training/BrbOm');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('brc8D', 'Rapid', 'Darrenk', 1764, 'ktanuja', 1689, 'd4,d5,Bf4,Bf5,e3,e6,Nf3,Bd6,Bg3,Bxg3,hxg3,Ne7,Bd3,g6,g4,Bxg4,Nbd2,c6,c4,O-O,Qc2,f5,Ng5,Kg7,Nxe6+,Kf6,Nxd8,Rxd8,Rxh7,Nd7,f3,Bh5,O-O-O,Rg8,c5,Nf8,Rh6,Kg5,Rxh5+,Kxh5,Rh1+,Kg5,f4+,Kf6,Qb3,Rb8,Nf3,b5,a4,a6,axb5,cxb5,Ne5,Ke6,Qc2,Nd7,Nf3,Rh8,Rxh8,Rxh8,Ng5+,Kf6,Kb1,Rh1+,Ka2,Nb8,Nf3,Nbc6,Qb3,Re1,Ne5,Ke6,Nxc6,Nxc6,g3,Rxe3,Qa3,Nxd4,Qxa6+,Kf7,c6,Rxd3,c7,Nc2,c8=Q', 'Nb4+,Kb1,Rd1+,Qc1,Rxc1+,Kxc1,Nxa6', 'https://lichess.org/training/brc8D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BrCvT', 'Rapid', 'faillone', 1813, 'danyx3k', 1797, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,d4,Bg4,dxe5,Qxd1+,Kxd1,Bc5,Rf1,Ne7,Ke1,Bxf3,gxf3,Ng6,f4,Nh4,Nc3,O-O,Ke2,Rfe8,Be3,Bxe3,fxe3,f6,exf6,gxf6,Rg1+,Kf7,Rg4,Ng6,f5,Ne5,Rh4,Rh8,Rd1,Rag8,Kf2,Ng4+,Kf3,Ne5+,Kf2,h5,Rg1', 'Rxg1,Kxg1,Nf3+,Kf2,Nxh4', 'https://lichess.org/training/BrCvT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BRDf1', 'Rapid', 'Giorgiogf', 1716, 'BasharRwaily', 1827, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,e5,Ndb5,a6,Na3,Be7,Nc4,O-O,f3,b5,Ne3,Nc6,Nf5,Bxf5,exf5,d5,Be2,d4,Ne4,Bb4+,Bd2,Bxd2+,Qxd2,a5,Bxb5,Nb4,a3,Na6,O-O,Nxe4,fxe4,f6,Bc4+,Kh8,Qd3,Nc5,Qg3,Nxe4,Qd3,Nc5,Qe2,Rb8,b3,a4,b4,Nd7,Rf3,Nb6,Ba2,Qc7,Rh3,Rbc8', 'Rxh7+,Kxh7,Qh5#', 'https://lichess.org/training/BRDf1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Brfdg', 'Rapid', 'crepefromage', 2413, 'DontmessWithMe_2', 2440, 'e4,e6,d4,d5,Nd2,c5,exd5,exd5,Ngf3,a6,dxc5,Bxc5,Nb3,Bb6,Bd3,Nf6,Qe2+,Be6,Nbd4,O-O,Nxe6,fxe6,Qxe6+,Kh8,O-O,Nc6,Bg5,Qc7,c3,Rae8,Qf5,Ne4,Qh3,Rxf3,Qxf3,Nxg5,Qh5,Re5,Rae1,Ne4,Qf3,Qe7,Qh3,Nxf2', 'Qxh7#', 'https://lichess.org/training/Brfdg');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('brfQC', 'Rapid', 'Mr_Neon', 1919, 'dimasik-dim', 1907, 'd4,d6,c4,g6,e4,Bg7,Nc3,Nf6,Nf3,O-O,Be2,c5,d5,Nbd7,O-O,Nh5,Ng5,h6,Bxh5,hxg5,Bg4,Ne5,Be2,g4,Bf4,f6,Bxe5,dxe5,Bxg4,f5,exf5,gxf5,Bh3,e4,Rc1,a6,d6,Qxd6,Nd5,e6', 'Nf6+,Bxf6,Qxd6', 'https://lichess.org/training/brfQC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('brFQL', 'Rapid', '10H01', 1955, 'Gambitmat86', 1942, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nc6,Bb5,Bd7,O-O,g6,Nxc6,bxc6,Ba4,Bg7,c3,Nf6,Bc2,O-O,h3,Qc8,Qf3,c5,Nd2,Bc6,Re1,Qb7,Qe3,e5,f3,Nh5,Nc4,Rad8,Qf2,Bb5,Na3,Ba6,b3,f5,exf5,gxf5,c4,Qf7,Qh4,f4,Rb1,h6,Be4,Bc8', 'Bd5,Be6,Bxe6,Qxe6,Qxh5', 'https://lichess.org/training/brFQL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('brH7S', 'Blitz', 'rohit1997', 1720, 'tmbas01', 1882, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,Nf6,Bf4,e6,Bg3,Bd6,Nf3,Bxg3,hxg3,O-O,e3,Bd7,Qc2,a6,g4,g6,g5,Nh5,g4,Ng7,Rh4,e5,dxe5,Qc8,Bh3,Ne6,Nxd5,Qxc2', 'Nf6+,Kg7,Rxh7#', 'https://lichess.org/training/brH7S');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BrHAx', 'Classical', 'Kuat_79', 1816, 'Derfelgreen', 1780, 'e4,b6,d4,Bb7,d5,Nf6,Bd3,e6,c4,c6,e5,cxd5,exf6,dxc4,fxg7,Bxg7,Bf1,Qf6,Nf3,Nc6,Be2,O-O-O,Qd6,Bf8,Qd1,Ne5,Bg5', 'Nxf3+,Bxf3,Qxg5,Bxb7+,Kxb7', 'https://lichess.org/training/BrHAx');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Brhst', 'Rapid', 'santo11', 1824, 'Asigno', 1797, 'e4,e5,Nf3,Nc6,Bc4,Nf6,h3,Bc5,d3,d6,Bg5,Na5,Bb3,Nxb3,axb3,h6,Bh4,g5,Bg3,a6,Nc3,Nh5,Nxe5,Nxg3,Qf3,O-O,Qxg3,dxe5,Nd5,c6,Nc3,f5,exf5,Rxf5,O-O,Qf8,Ne4,Bb6,h4,Rf4,hxg5,Rg4,Qxe5,hxg5', 'Nf6+,Kf7,Nxg4', 'https://lichess.org/training/Brhst');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bRHxe', 'Rapid', 'andrea_19920611', 1673, 'AGerman', 1683, 'e4,e5,Nf3,Nc6,Bb5,Bc5,Bxc6,bxc6,O-O,d5,Nxe5,dxe4,Re1,f5,Nxc6,Qd6,Na5,Ne7,d3,O-O,Nb3,Bb6,Nc3,c6,dxe4,fxe4,Nxe4,Qe5,Be3,Bc7,Bc5,Qxh2+,Kf1,Qh1+,Ke2,Bg4+,Ke3,Nd5+,Qxd5+,cxd5,Rxh1,Bf4+,Kd4,dxe4,Bxf8,Kxf8,Kxe4,Bh6,f3,Re8+,Kd3,Bf5+,Kc3,Re3+,Kb4,Re2,Nd4,Bd2+,c3,Re5,Nxf5,Rxf5,Rxh7,Rg5,Rh8+,Kf7,Rd1,Bf4,Rd7+,Kg6,Rxa7,Rxg2,Ra6+,Kf7,Rh4,g5,Rh7+,Kg8,Rb7,Rxb2+,Kc4,Rxb7,a4,Rf7,a5,Bc7,Rg6+,Kh7,Rxg5,Rxf3,a6,Rf8,Kb4,Rb8+,Rb5,Rf8', 'Rb7,Kg6,Rxc7', 'https://lichess.org/training/bRHxe');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('brkCP', 'Blitz', 'KnightOwl007', 1550, 'mirem67', 1580, 'd4,b6,c4,e6,Nc3,Bb7,e4,Bb4,Bd3,h6,a3,Bxc3+,bxc3,d6,Nf3,Qe7,O-O,Nf6,Be3,Nxe4,Qc2,Ng5,Nd2,e5,f4,Ne6,fxe5,dxe5,Be4,c6,d5,cxd5,cxd5,Ng5,d6,Bxe4,Qc1,Nh3+,Kh1,Qxd6,Nxe4,Qd5,Ng3,Ng5,Bxg5,hxg5,Qxg5,Nd7,Rad1,Qe6,Qxg7,O-O-O,Rxf7,Qb3,Rfxd7', 'Qxd1+,Rxd1,Rxd1+,Nf1,Rxf1#', 'https://lichess.org/training/brkCP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('brl8A', 'Rapid', 'Hycinth', 1767, 'Ian-JDS', 1714, 'e4,e5,f4,exf4,Nf3,g5,d4,g4,Ne5,Qh4+,g3,fxg3,Qxg4,Be7,Bg2,gxh2+,Qxh4,Bxh4+,Kf1,Nc6,c3,Nxe5,dxe5,Bg3,Na3,b6,Nc4,Bb7,a4,a5,Ke2,Ne7,Kf3,Rg8,Bh3,f5,Nd2,d5,exd6,cxd6,Ke2,fxe4,Nc4,Nd5,Be6,Rf8,Bxd5,Bxd5,Nxb6,Rf2+,Ke3,Bf4+', 'Kxf2,e3+,Bxe3', 'https://lichess.org/training/brl8A');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('brMg2', 'Rapid', 'Khangnd', 2074, 'Very_Varoka', 2041, 'd4,e6,e3,d5,Bd3,f5,b3,Nf6,Bb2,c6,Nf3,Be7,Nbd2,O-O,O-O,Nbd7,h3,a6,c4,Re8,Rc1,Nf8,Ne5,Bd7,c5,Ng6,Nxg6,hxg6,Nf3,Ne4,Ne5,g5,Qh5,Rf8,Ng6,Be8,Qh8+,Kf7,Nxf8,Bxf8,Bxe4,dxe4,Qh5+,Kg8,Qe2,Bf7,f3,exf3,Qxf3,Qc7,e4,Bg6,exf5,exf5,Rfe1,Rd8,Qe3,f4,Qe6+,Kh7,Qg4,Rd5,Rcd1,Qf7,Qf3,Bh5,Qd3+,Bg6,Qc3,Be7,Qc4,Bf6,Rd2,Bh5,Qc2+,Bg6,Qc1,Qd7,Qc4,Qf5,Rde2,f3,Rf2,g4,hxg4,Qxg4,Rxf3,Bh4,Rh3,Kg8,Rf1,Bf6,Qc3', 'Bxd4+,Qxd4,Rxd4', 'https://lichess.org/training/brMg2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bRmGH', 'Rapid', 'ricksanchez2001', 1965, 'Sunyata', 1951, 'e4,d6,d4,e6,Nc3,Nd7,Nf3,a6,Bd3,h6,d5,e5,Be3,Ne7,Qd2,g5,h3,Bg7,a3,Ng6,Nh2,Nh4,g3,Ng2+,Ke2,Nxe3,Qxe3,Nc5,Rad1,Bxh3', 'g4,Bxg4+,Nxg4', 'https://lichess.org/training/bRmGH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('brMri', 'Rapid', 'ClassicChessOlympia', 2043, 'Nun0y', 2021, 'e4,e5,Nf3,Nc6,Bb5,d6,h3,Bd7,O-O,a6,Ba4,Nf6,Re1,Be7,c3,b5,Bb3,Na5,Bc2,O-O,d4,h6,dxe5,dxe5,Nxe5,Qc8,Nxd7,Nxd7,Bf4,Nc6,Nd2,Nde5,Nf3,Bd6,Nxe5,Nxe5,Qd5,Qe8,Bb3,Rd8,Qd1,c5,Qh5,c4,Bc2,Nd3,Bxd6,Rxd6,Bxd3,cxd3,Rad1,Qd7,f3,Qa7+,Kh1,Qf2,b4,Qxa2,Qc5,Rfd8,Qc7,Qf2,Rf1,Qg3,f4,R8d7,Qc8+,Kh7,e5,Rg6,Rg1,Rd5,Qf5,d2,Qe4,Rd3,f5', 'Qxh3+,gxh3,Rxh3#', 'https://lichess.org/training/brMri');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BrmTt', 'Rapid', 'artmur', 1665, 'niners', 1634, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nf3,Nf6,Nc3,Bb4,Bd2,d6,Bd3,Bg4,O-O,Nd4,a3,Bxc3,Bxc3,Nxf3+,gxf3,Bh3,Re1,O-O,Kh1,Nd7,Rg1,Qf6,Rg3,Be6,Bd2,Nc5,Qg1,g6,Bg5,Qh8,h4,h6,Be7,Rfe8,Bxd6,Nxd3,cxd3,Rad8,Bb4,Rxd3', 'Rxg6+,fxg6,Qxg6+,Qg7,Qxe8+,Kh7,Qxe6', 'https://lichess.org/training/BrmTt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BRoaP', 'Rapid', 'donmanfredo', 1971, 'maikkel', 1968, 'd4,d5,c4,e6,Nc3,Nf6,Bg5,Be7,e3,h6,Bh4,dxc4,Bxc4,c6,Nf3,O-O,O-O,Nbd7,Rc1,Re8,Bxf6,Bxf6,Rc2,Nb6,Bd3,e5,dxe5,Bxe5,Qe2,Qf6,Nxe5,Qxe5,Rd1,Bf5,Bxf5,Qxf5,Rdc1,Nd5,a3,Nxc3,Rxc3,Rad8,Qc2,Qxc2,R3xc2,Rd6,g3,Red8,Kg2,Rd1,Rxd1,Rxd1,Kf3,g5,Kg2,f5,h3,Kf7,f3,Ke6,g4,fxg4,hxg4,Rd3,Kf2,Ke5,Ke2,Rd5,Rd2,Rxd2+,Kxd2,c5,Kd3,b5,b3,a5,Kc3,Kd5,f4,gxf4', 'exf4,a4,bxa4', 'https://lichess.org/training/BRoaP');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('brOE0', 'Blitz', 'desano', 1760, 'anl791', 1861, 'e4,d5,exd5,Qxd5,Nf3,e5,Nc3,Qe6,Nb5,Bd6,d4,e4,Ng5,Qg6,Bc4,Be6,Bxe6,fxe6,O-O,Nf6,Nxe6,Qf7,Nexc7+,Bxc7,Bg5,O-O,f3,e3,c3,Nd5,Re1,Bf4,Bxf4,Qxf4,c4,Nb6,Qd3,Re8,Re2,a6,Nc3,Nc6,a3,Nxd4,Ree1,Rad8,Qf1,Nc2,Re2,Nxa1,Qxa1,Rd2,Qe1,Red8,Rxe3,Qg5', 'Re8+,Kf7,Qe6#', 'https://lichess.org/training/brOE0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BrPLE', 'Rapid', 'soultravel', 1669, 'Veronika26rus', 1860, 'e4,e5,Nf3,d6,d4,exd4,Qxd4,Nf6,Bg5,Be7,Nc3,Nc6,Bb5,Bd7,Qd2,O-O,O-O-O,h6,Bf4,a6,Bd3,Nh5,Be3,Kh8,Bxh6,Bf6,Nd5,Ne5,Nxe5,dxe5,Be3,c6,Nc3,Nf4,g3,Ng2,Kb1,Nxe3,fxe3,Bg5,h4,Bh6,Rdg1,Bg4,Nd1,f5,Nf2,Bf3,exf5,e4,Nxe4,Bxe4,Rh2,Bxf5,g4,Bxd3,cxd3,g6,g5,Bg7,h5,gxh5,Rxh5+,Kg8,Rgh1,Qb6,g6,Rf6,Rg5,Raf8,Rh8+,Kxh8', 'Qh2+,Bh6,Qxh6+,Kg8,Qh7#', 'https://lichess.org/training/BrPLE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('brPOT', 'Blitz', 'jaahti', 1659, 'Ekb_2019', 1693, 'b3,a5,e4,b5,Bxb5,Ba6,Bxa6,Nxa6,c3,e5,d4,exd4,cxd4,c5,d5,Qh4,Qe2,Nf6,Nf3,Qh5,O-O,Be7,Nc3,O-O,Be3,d6,Rfe1,Nd7,Nd4,Qxe2,Ndxe2,f6,Ng3,g6,Rab1,Ne5,a3,h5,h3,h4,Nf1,Kf7,f4,Nd7,Bd2,Bd8,Nh2,Bb6,Kf1,Rg8,Nf3,Rh8,Re2,Nc7,Be1,Ne8,Nxh4,Ng7,f5,g5,Ng6,Rh5,Bg3,c4,bxc4,g4,Bxd6,gxh3,g3,h2,Kg2,Bg1,Rb7', 'h1=Q+,Kf1,Bd4#', 'https://lichess.org/training/brPOT');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BrQgN', 'Rapid', 'gilam', 1876, 'McDevonP', 1917, 'e4,c5,c3,Nc6,d4,cxd4,cxd4,e6,Nc3,Nf6,e5,Nd5,Nxd5,exd5,Bb5,Be7,Nf3', 'Qa5+,Bd2,Qxb5', 'https://lichess.org/training/BrQgN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BrquF', 'Blitz', 'Fedor_Alimov', 2302, 'FM eskeropouloss', 2470, 'e4,e5,Nc3,Nc6,Nge2,Nf6,g3,d5,exd5,Nxd5,Bg2,Be6,O-O,Bc5,d3,a6,Kh1,O-O,Ne4,Be7,f4,f5,N4c3,Nxc3,Nxc3,Qd7,Be3,exf4,Bxf4,Bf6,Re1,Bxc3,bxc3,Bd5,Qe2,Bxg2+,Qxg2,Rae8,c4,h6,h4,Qf7,Qf2,Nd8,d4,Qxc4,Qd2,Rxe1+,Rxe1,Qd5+,Kh2,Ne6,Be5,f4,gxf4,Qf3,Re3,Qg4,Qg2,Qxg2+,Kxg2,Nxf4+,Kg3,Nd5,Rf3,Rxf3+,Kxf3,c6,c4,Ne7,Ke4,Ng6,Bg3,Kf7,a4,Nf8,Kf5,g6+,Ke4,Nd7,Bf4,Kf6,Bxh6,Ke6,Bg5,Kd6,Bf4+,Ke6,d5+,cxd5+,cxd5+,Ke7,Kd4,Nb6,Bg5+,Kd7,a5,Nc8,Kc5,Nd6,Bf4,Nf5,Bg5,Ng3,Kb6,Kc8,d6,Ne4,Bf4,Nf6,Be5', 'Nd7+,Ka7,Nxe5', 'https://lichess.org/training/BrquF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bRQzE', 'Rapid', 'Time_is_running', 2240, 'giveupnoob', 1799, 'e4,e5,Nf3,d6,d4,Bg4,dxe5,Nc6,exd6,Bxd6,Be2,Qe7,Nc3,O-O-O,Bd3,Nf6,Qe2,Nd4,Qe3,Nxf3+,gxf3,Bh5,Bd2,Rhe8,O-O-O,Nd7,Qxa7,Bxf3,Nd5,Qe5,Be3,Bxd1,Rxd1,Qxh2,Bb5,c6,Qa8+,Nb8,Nb6+,Kc7,Qa5,cxb5,f4,Nc6,Nd5+,Kb8,Qxb5,Bxf4', 'Bxf4+,Qxf4+,Nxf4', 'https://lichess.org/training/bRQzE');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BRr1y', 'Rapid', 'hooklux', 1689, 'KamilYasar', 1746, 'e4,d5,exd5,Nf6,Nc3,Nxd5,Nxd5,Qxd5,Nf3,e5,c4,Qd6,Ng5,Be7,d3,Bxg5,Bxg5,Qb4+,Bd2,Qxb2,g3,Bg4,Qxg4,Qxa1+,Ke2,O-O,Bh6,Qxa2+,Ke3,g6,Bxf8,Kxf8', 'Qc8+,Kg7,Qxb7', 'https://lichess.org/training/BRr1y');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('brSK4', 'Rapid', 'IronArthur', 1717, 'edi_h', 1690, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,d6,Nxc6,bxc6,Nc3,Nf6,e5,Ng4,exd6,Bxd6,Bc4,Qe7+,Be2,Nxh2,Ne4,Qxe4,Be3,Qxg2,Kd2,Qd5+,Kc1,Qxd1+,Bxd1,Ng4,Bf3,Nxe3,Bxc6+,Bd7,Bxa8,O-O,Bb7,Nf5,c3,Rb8,Bd5,Bf4+,Kc2,Ne7,Bb3,Rd8,Kd3,Bf5+,Kc4,Rd2,Rhd1,Be6+,Kc5,Bd6+,Kb5,Rxb2,Ka6,Bxb3,axb3,Rxb3,Rdb1,Rxb1,Rxb1,h6,Kxa7,Bc5+,Kb7,Bxf2,c4,g5,Kxc7,g4,Kd7,Nf5,Rb5,Ne3,c5,g3,c6,g2,c7,g1=Q,c8=Q+,Kh7,Kd6,Qg3+,Kc6,Qg6+,Kb7,Qe4+,Ka6,Nc4,Qf5+,Qxf5,Rxf5,Bd4,Rxf7+,Kg6,Rf4,h5,Rxd4,Ne5,Kb6,Kg5,Kc7,h4,Kd6,Nf3,Ra4,h3,Ke6', 'h2,Ra1,Ng1', 'https://lichess.org/training/brSK4');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BRsL7', 'Rapid', 'shariati', 1649, 'a0_0z', 1831, 'e4,e5,Bc4,Bc5,Bxf7+,Kxf7,Qh5+,Ke6,Qf5+,Kd6,Nf3,Nc6,Nc3,a6,Ng5,Nh6,Nf7+,Nxf7,Qxf7,Bd4,O-O,Nb4,Qxg7,Nxc2,Rb1,c6,d3,Kc7,Be3,Nxe3,fxe3,Bxe3+,Kh1,Qg5,Qf7,Bf4,Na4,Rg8,Rg1,Be3,Nc5,Bxg1', 'Ne6+,Kb8,Nxg5', 'https://lichess.org/training/BRsL7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BrSmc', 'Rapid', 'pauljoh12', 1647, 'Taikung', 1609, 'e4,c5,Nf3,d6,d4,cxd4,Nxd4,Nf6,Nc3,a6,Be2,e6,a4,Nbd7,Bg5,Be7,O-O,Nc5,f3,O-O,b4,Ncd7,f4,h6,Bh4,e5,Nf5,Re8,Nxd6', 'Qb6+,Bf2,Qxd6,Qxd6,Bxd6', 'https://lichess.org/training/BrSmc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bRT0T', 'Blitz', 'angelchess99', 2015, 'TadePantaRei', 1910, 'e4,e5,Nf3,Nc6,Bb5,a6,Ba4,d6,c3,f5,exf5,Bxf5,O-O,Bd3,Re1,Be7,Bc2,Bxc2,Qxc2,Nf6,d4,e4,d5,exf3,dxc6,bxc6,Bg5,O-O,g3,Nd5,Bxe7,Nxe7,Nd2,Nd5,c4,Nb4,Qe4,d5,Qe6+,Kh8,Re5,Nd3,Rh5,Rf6,Qg4,dxc4,Nxf3,Qd6,Rf1,Raf8,Ng5,Rg6,Rxh7+,Kg8,Qxc4+,Qd5,Qxd5+,cxd5,Rh5,Rf5,h4,Nxb2,Rb1,Nd3,Rb8+,Rf8', 'Rh8+,Kxh8,Rxf8#', 'https://lichess.org/training/bRT0T');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('brT9C', 'Rapid', 'sfjb1', 1673, 'vasicakobasica', 1656, 'd4,c5,d5,d6,e4,e5,dxe6,Bxe6,Nc3,Nf6,Bg5,h6,Bh4,g5,Bg3,Bg7,e5,Ng4,exd6,Bxc3+,bxc3,Qa5,Qd2,Nc6,Nf3,O-O-O,a4,Rd7,Bb5,Rhd8,Bxc6,bxc6,O-O,f5,h3,f4,hxg4,Rxd6,Qe2,fxg3,Rfd1,Qxc3,Rxd6,Qxa1+,Ne1,Rxd6,fxg3,Qd4+,Kh2,Bxg4,Qa6+,Kd7,Qxa7+,Ke6,Qh7,Kd5,Qf7+,Be6,Qf3+,Qe4,Qd1+,Qd4,Qf3+,Qe4,Qd1+,Ke5', 'Nf3+,Kf5,Qxd6', 'https://lichess.org/training/brT9C');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bRtWM', 'Rapid', 'BalanayMarcFrancis', 2226, 'Jayson_Salubre', 2315, 'e4,c5,Nc3,g6,d4,cxd4,Qxd4,Nf6,Bb5,a6,Ba4,b5,Bb3,Nc6,Qe3,Bg7,h3,d6,f4,O-O,e5,Ne8,e6,f5,Bd2,a5,Nxb5,Bxb2,Rd1,Bg7,a4,Bb7,Nf3,Nb4,O-O,Nf6,Ng5,Ne4,Nf7,Qb8,Kh2,Rc8,Bxb4,axb4,g4,Nc3,Nxc3,Rxc3,Rd3,fxg4,hxg4,Qc7,Rxc3,bxc3,f5,Qc6,Qg3,Qe4,fxg6,hxg6,Kh3,Bf6,g5,Bg7,Rf4,Qh1+,Qh2,Qe1,Qf2,Qd1,Rh4,Qh1+,Kg3,Qc1,Nh6+,Bxh6', 'Qf7+,Kh8,Rxh6#', 'https://lichess.org/training/bRtWM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bRu6i', 'Rapid', 'santiusty', 1683, 'schadupp', 1698, 'Nf3,Nc6,c4,Nf6,Nc3,a6,a3,e5,d3,d6,g3,Be7,Bg2,Bd7,O-O,O-O,Ng5,h6,Nge4,Nxe4,Bxe4,Bh3,Bg2,Bg4,Nd5,Rb8,Be3,f5,h3,Bh5,Qc2,g5,b4,f4,gxf4,gxf4,Bd2,Bh4,Bc3,Ne7,f3,Nxd5,cxd5,Kf7,Be1,Bxe1,Raxe1,Rg8,Rf2,Qh4,Qxc7+,Kf6,Qxd6+,Kf5,Qe6+,Kg5,Ref1,Rbf8,d6,Be8,d7,Bxd7,Qxd7,Kh5,Qe6,Rg5,Kh2,Rfg8,Qf7+,R8g6,e3,b5,exf4,exf4,d4,Rg3,d5,Qg5,Rg1', 'Rxh3+,Bxh3,Qxg1#', 'https://lichess.org/training/bRu6i');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BrUHX', 'Blitz', 'noob-plays-chess', 1726, 'ghostknife17', 1744, 'd4,g6,Bf4,Bg7,Nf3,Nf6,c4,d6,Nc3,O-O,Qb3,b6,Rd1,Bb7,e3,Re8,Bd3,Nbd7,e4,Qc8,e5,dxe5,dxe5,Bxf3,gxf3,Nc5,Qc2,Nxd3+,Qxd3,Nh5,Qe4,f5,Qd5+,Kh8,Bg3,f4,Bh4,Qf5,Ne4,Bxe5,Ng5,Kg7,b3,Bc3+,Ke2,Qc2+,Rd2,Bxd2', 'Qf7+,Kh8,Qxh7#', 'https://lichess.org/training/BrUHX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BrvHl', 'Blitz', 'andre_ramos', 2090, 'NewKinglear', 2006, 'e4,e6,c4,c6,Nc3,d6,Nf3,f5,exf5,exf5,d4,Nf6,Bd3,Be7,Qc2,O-O,Bxf5,Bxf5,Qxf5,Ne8,Qe6+,Kh8,O-O,Rxf3,gxf3,Nc7,Qg4,Nd7,Ne4,d5,Ng5,Bxg5,Bxg5,Nf6,Qh4,Nce8,Rfe1,dxc4,Re5,Qd7,Rae1,Nd5,Qg4,Qf7,Qe6,Qxe6,Rxe6,Nef6,Bxf6,Nxf6,Re7,b5,Rc7,a6,Rxc6,h6,Ree6,a5,Ra6,Rd8,Red6,Re8,Rxa5,Re1+,Kg2,Nh5,Rxb5,Nf4+,Kg3,Ne2+,Kg2', 'Rg1+,Kh3,Nf4+,Kh4,g5+,Rxg5,hxg5#', 'https://lichess.org/training/BrvHl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BrVsk', 'Blitz', 'Crakefish', 1654, 'FIDE1968', 1727, 'c4,Nf6,d4,d5,cxd5,Nxd5,Nf3,e6,Bg5,Bb4+,Nbd2,f6,Bh4,O-O,e4,Nf4,a3,Bxd2+,Qxd2,e5,dxe5,Qxd2+,Kxd2,Rd8+,Ke3,Ng6,exf6,Nxh4,Bc4+,Kf8,fxg7+,Kxg7,Nxh4,Nc6,g4,Ne5,Be2,Bxg4,Rag1,h5,f3,Kf6,fxg4,hxg4,Rf1+,Kg5,Rf5+,Kxh4,Rg1,Nf3,Rxg4+,Kxg4', 'Bxf3+,Kh4,Rh5#', 'https://lichess.org/training/BrVsk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BrVX1', 'Rapid', 'AEDPinto', 1713, 'irvi_7667', 1786, 'e4,b6,Bc4,Bb7,d3,e6,Bb3,h6,a3,Nf6,Be3,Be7,Nd2,O-O,Ngf3,Nh7,O-O,Ng5,Nxg5,Bxg5,Bxg5,Qxg5,Nf3,Qf6,c3,d6,Re1,Nd7,d4,a5,e5,dxe5,Nxe5,Nxe5,Rxe5,Qg6,f3,Rad8,Qe2,Rd6,Rd1,Rfd8,Bc2,Qf6,Qd3,g6,Qe3,h5,Re1,Rd5,Rxd5,Bxd5,Kh1,Kg7,Be4,Bxe4,Qxe4,Qe7,Qe5+,Kg8,f4,Qd6,Qf6,c6,g3,Qd5+,Kg1,c5,Rd1,c4,Re1,Qd7,Kg2,Qb7+,Kh3,Rd7,Kh4,Qf3,Kg5,Kf8,Rxe6', 'Qg4+,Kh6,Qxe6,Qxe6,fxe6', 'https://lichess.org/training/BrVX1');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('brWvL', 'Rapid', 'yracezor', 2071, 'Berder', 2010, 'e4,c5,f4,Nc6,Nf3,Qc7,g3,e5,d3,exf4,Bxf4,Bd6,Qd2,Bxf4,Qxf4,Qxf4,gxf4,Nf6,Nbd2,Nb4,Kd1,Ng4,a3,Ne3+,Ke2,Nbxc2,Rc1,d6,Nc4,Bg4,Nxe3,Nd4+,Kf2,Bxf3,Rg1,Bh5,Rg5,g6,Bh3,Ne6,Bxe6,fxe6,e5,h6,Rg3,dxe5,fxe5,b6,Nc4,Rf8+,Ke3,Ke7,Nd6,Rad8,b4,cxb4,axb4,Rd7,d4,Kd8,h4,Rc7,Rxc7,Kxc7,Ne4,a5,bxa5,bxa5,Nf6,a4,Ke4,Ra8,Nxh5,gxh5,Ra3,Kc6,Rc3+,Kb5,d5,a3,Rc1,a2,dxe6,a1=Q,Rxa1,Rxa1,Kf5,Kc6,Kf6,Rf1+,Ke7,Kc7,Ke8,Rf4,e7,Rxh4', 'Kf7,Rf4+,Ke6,h4,e8=Q', 'https://lichess.org/training/brWvL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BRxE2', 'Blitz', 'Ebkwp123', 1661, 'IvantheTerrible1', 2197, 'd4,d5,e3,Nf6,f4,c5,c3,Nc6,Nf3,Bg4,Bd3,e6,O-O,Bd6,Qe1,O-O,Ne5,Bf5,Bxf5,exf5,Nd2,Ne4,Nxe4,dxe4,Qf2,cxd4,exd4,g6,Qe2,Bxe5,fxe5,Ne7,Bh6,Re8,Qf2,Nd5,Qg3,Rc8,Rxf5,Kh8,Rxf7,Qb6,Raf1,Kg8,Qf2,Ne3,Rf8+,Rxf8', 'Qxf8+,Rxf8,Rxf8#', 'https://lichess.org/training/BRxE2');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BRxIw', 'Rapid', 'KMKorsmo', 1776, 'Mr-JF', 1893, 'e4,c6,d4,d5,e5,Bf5,f4,e6,Nf3,Nd7,Bd3,Nh6,O-O,Be7,Bxf5,Nxf5,c3,O-O,Nbd2,Ne3,Qe2,Nxf1,Nxf1,c5,Be3,Rc8,Ng3,Nb8,Rf1,Nc6,f5,cxd4,Nxd4,Nxd4,cxd4,exf5,Nxf5,Bg5,Nd6,Bxe3+,Qxe3,Rc7,Qg3,Qe7', 'Nf5,g6,Nxe7+', 'https://lichess.org/training/BRxIw');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('brY3K', 'Rapid', 'brsil', 2075, 'matabio', 1924, 'e4,c5,Nf3,e6,d4,cxd4,Nxd4,Nc6,Nb5,d6,Bf4,e5,Be3,Nf6,Bg5,a6,N5c3,Be6,Bxf6,Qxf6,Nd5,Bxd5,Qxd5,Rc8,c3,Qg6,Nd2,Be7,Nf3,O-O,Be2,Qxg2,Rg1,Qh3,Rg3,Qe6,O-O-O,Qxd5,Rxd5,Nd8,h4,Ne6,Bd1,Nf4,Rd2,b5,Kb1,a5,Bb3,Kh8,Bd5,Rc5,Bb3,f5,Ng5,h6,Nf7+,Rxf7,Bxf7,fxe4,h5,Nd3,Bg6,Bg5,Re2,Bh4,Rg2,Nf4,Rh2,Nxe2,Rxh4,b4', 'Rxe4,Nf4,cxb4,axb4,Rxb4', 'https://lichess.org/training/brY3K');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BRY8f', 'Rapid', 'Revolutionman', 1977, 'Arifarslan44', 1921, 'e4,c6,d4,d5,exd5,cxd5,Bf4,Bf5,Bd3,Bxd3,Qxd3,Nc6,Nf3,e6,c3,Nf6,O-O,Bd6,Bxd6,Qxd6,Re1,Ng4,h3,Nf6,Ne5,O-O,Nd2,Rfe8,Qf3,Qc7,Nd3,e5,dxe5,Nxe5,Nxe5,Rxe5,Nb3,Rae8,Rxe5,Rxe5,Nd4,Ne4,Qf4,Nxc3,g3,Ne4,Nf3,Re7,Qh4,g6,Re1,f5,Nd2,Ng5,Rxe7,Qxe7,Kg2,d4,Nf3,d3,Qxg5', 'Qxg5,Nxg5,d2', 'https://lichess.org/training/BRY8f');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BrYAy', 'Blitz', 'nsk_alex71', 1902, 'Phalanx_X', 1822, 'd4,d5,Bf4,e6,Nf3,Bd6,Ne5,Nf6,e3,Nc6,Be2,Ne4,O-O,Nxe5,dxe5,Be7,Nd2,Bg5,Nxe4,dxe4,Qxd8+,Bxd8,Rfd1,Bd7,Rd4,f5,exf6,Bxf6,Rxe4,Bxb2,Rb1,Bf6,Bg4,O-O-O,Bxe6,Bxe6,Rxe6,Rd2,h3,Rxc2,a4,Ra2,Re4,Rd8,Reb4,Rdd2,Rxb7,Rxf2', 'Rxc7+,Kd8,Rb8#', 'https://lichess.org/training/BrYAy');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('brzmS', 'Rapid', 'UNLEASHED2517', 1929, 'MickeyUdoh', 1937, 'd4,d5,Bf4,Bf5,Nf3,e6,e3,Bd6,Ne5,f6,Qh5+,g6,Nxg6,Bxg6,Qf3,Bxf4,Qxf4,Qe7,c3,a6,Be2,Nc6,Nd2,O-O-O,O-O,e5,Qg4+,f5,Qg3,Nf6,dxe5,Nxe5,Nb3,Rdg8,Qh3,Kb8,Nd4,Qd7,f4,Neg4,Rad1,Ne4,Nf3,Nxe3,Ne5,Qg7,Qxe3,h5,Rxd5', 'Bf7,Bf3,Bxd5', 'https://lichess.org/training/brzmS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bS1c7', 'Classical', 'Rleijser', 1919, 'Israellimaa', 1893, 'd4,d5,c4,c6,Nc3,e6,Nf3,Nf6,e3,Bb4,Bd2,Nbd7,Bd3,O-O,O-O,b6,a3,Bxc3,Bxc3,Bb7,b4,Rc8,c5,b5,Qc2,Re8,Ng5,Nf8,e4,h6,Nh3,dxe4,Bxe4,Nxe4,Qxe4,Qd5,Qg4,Qf5,Qg3,Ng6,Rae1,Red8,Re3,Qd5,Nf4,Nxf4,Qxf4,f6,Rfe1,Re8,Rg3,Kh8,Bd2,Re7,Qh4,Rf8,Bxh6,gxh6,Qxh6+,Rh7', 'Qxf8#', 'https://lichess.org/training/bS1c7');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bS1dk', 'Rapid', 'Dromdream', 1880, 'stomatologiaJulia', 1853, 'd4,d5,Nf3,Nf6,e3,h6,c4,c6,Nc3,Bf5,b3,e6,h3,Nbd7,Bd3,Ne4,Bb2,Ndf6,O-O,Bd6,Ne5,O-O,g4,Bh7,Kg2,Qc7,f3,Bxe5,fxe4,Nxe4,Bxe4,Bh2,Bxh7+,Kxh7,Qf3,f5,g5,dxc4,bxc4,hxg5,Qh5+,Kg8,Qxg5,Rf7,Ne2,Bd6,c5,Be7,Qg3,Qa5,Nf4,Qb5,Rf2,b6,Nxe6,bxc5,Nxc5,Bxc5,dxc5,Qxc5,Bd4,Qd5+,Qf3,Qe6,Rc2,Rc8,Rac1,Rfc7,Qg3,c5,Bxc5,a6,Qd6', 'Qxd6,Bxd6,Rxc2+,Rxc2,Rxc2+', 'https://lichess.org/training/bS1dk');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BS2ro', 'Rapid', 'bvemu', 1638, 'verrama', 1847, 'e4,e6,a3,a6,h3,h6,Nf3,d5,exd5,exd5,Qe2+,Be7,d4,Be6,Nc3,c5,Be3,Qb6,dxc5', 'Qxb2,Rb1,Qxc3+', 'https://lichess.org/training/BS2ro');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BS2TR', 'Rapid', 'ahmedh123', 1730, 'LuciennBWGR', 1744, 'd4,d5,c4,dxc4,e4,Nc6,Be3,e5,d5,Nce7,Bxc4,Ng6,Ne2,Nf6,Nd2,Bb4', 'Qa4+,Bd7,Qxb4', 'https://lichess.org/training/BS2TR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bs4Pt', 'Rapid', 'yamsok', 1807, 'killthehand', 1890, 'd4,d5,h3,c5,e3,Nc6,Nf3,Nf6,Be2,e6,O-O,a6,c3,Bd7,Nbd2,c4,b3,b5,bxc4,bxc4,a4,Rb8,Nh2,Na5,f4,Nb3,Rb1,Nxd2,Bxd2,Bd6,Ng4,Ne4,Ne5,Bxe5,fxe5,O-O,Qc2,Qa5,Rxb8,Rxb8,Rb1,Rxb1+,Qxb1,g6,Be1,Bxa4,Qb8+,Kg7,h4,h5,g4,hxg4,Bxg4,Qb5,Qd8,Qb1,Kf1,Qd3+,Be2,Ng3+,Bxg3,Qxe3,Qf6+,Kg8,Bf4,Qxc3,Bh6,Qh3+,Ke1,Qg3+,Kd2', 'c3+,Kc1,Qe1+,Bd1,Qxd1#', 'https://lichess.org/training/Bs4Pt');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bs4th', 'Rapid', 'Amertahseen', 1716, 'Fujurenixx', 1901, 'd4,d5,e3,Nf6,Bd3,c5,c4,dxc4,Bxc4,cxd4,exd4,Nc6,Nf3,Bg4,Bb5,Rc8,O-O,e6,Bg5,Be7,Nbd2,O-O,Qa4,a6,Bxc6,Rxc6,Ne5,Rd6,Bxf6,Bxf6,Nxg4,Rxd4,Nxf6+,Qxf6,Qa5,Rfd8,Nf3,R8d5,Qc3,Rd3,Qxf6,gxf6,Rac1,Rd7,h3,Kg7,Rc8,R3d5,b3,R5d6,Rfc1,Rd1+,Rxd1,Rxd1+,Kh2,Ra1,Rc7,b5,Nd4,Kg6,a4,bxa4,bxa4,Rxa4,Nf3,a5,g4,Rb4,Nh4+,Kg7,Kg3,a4,Ra7,Rb3+,f3,a3,Ng2,e5,Ne1,e4,Kf4,e3,Nc2,e2,Re7,a2,Rxe2,Rb2,Ke3', 'Rxc2,Rxc2,a1=Q', 'https://lichess.org/training/Bs4th');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bs5ES', 'Rapid', 'chesscraftsman', 1862, 'Hritwick', 1875, 'e4,d5,exd5,Qxd5,Nc3,Qa5,Nf3,e5,d3,c5,Bd2,Nc6,Ne4,Qd8,Be2,Nf6,Bg5,Be7,Bxf6,Bxf6,Nxc5', 'Qa5+,Nd2,Qxc5', 'https://lichess.org/training/Bs5ES');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BS9I0', 'Rapid', 'Gkauak', 1612, 'cptmehtk', 1646, 'b3,d5,Bb2,Nf6,e3,e6,Nf3,Bd6,Be2,O-O,O-O,Nbd7,c4,c6,cxd5,cxd5,d3,h6,e4,dxe4,dxe4,Bc5,Nc3,b6,Qc2,Bb7,a3,a6,b4,Bd6,Na4,b5,Nc5,Nxc5,bxc5,Bf4,Rad1,Qc7,Bd3,Rac8,Bd4,Bc6,g3,Nh5,gxf4,Qxf4,Ne5,Qg5+,Kh1,Nf4,Rg1,Qh5,Nxc6', 'Qf3+,Rg2,Qxg2#', 'https://lichess.org/training/BS9I0');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bS9V9', 'Classical', 'Krishan_Kant', 1734, 'Demonov-2000', 1913, 'd4,Nf6,Nc3,d5,Bf4,e6,e4,dxe4,f3,exf3,Qxf3,Qxd4,Be3,Qb4,O-O-O,Nc6,Nb5,Qa5,Bf4,Nd5,Rxd5,exd5,Nxc7+,Kd8,Nxa8,Qxa2,Bc7+,Ke8,Qe3+,Be6,Bb5,g6,Qe5,Rg8,c3,Bh6+,Kc2,Qa1,Ne2,Qxh1,Bxc6+,bxc6,Qd6,Bg5,Qxc6+,Kf8,Bd6+,Kg7,Nc7,Qxg2,Nxe6+,fxe6,Qd7+,Kh6,Qxe6,Rd8,Bg3,d4,Kd3,dxc3+,Kxc3,Bd2+,Kc2,Bg5,Kb3,Qb7+,Ka2,Rd2,Be5,Rxe2', 'Qh3+,Bh4,Qxh4#', 'https://lichess.org/training/bS9V9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bsA7D', 'Rapid', 'mrespeen', 1602, 'eca08', 1669, 'e4,e5,Nf3,Nc6,Bc4,h6,O-O,d6,h3,Bd7,d3,Qe7,Be3,O-O-O,a4,a6,c3,Kb8,b4,f5,b5,Na5,bxa6,Nxc4,d4,b6,Na3,Nxe3,fxe3,exd4,exf5,dxe3,Nd4,Bxa4,Nab5,Bxb5,a7+,Ka8,Nxb5,e2', 'Qd5+,c6,Qxc6+,Qb7,Nc7#', 'https://lichess.org/training/bsA7D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BSaBS', 'Classical', 'ozbaysalih', 1979, 'TheSethLord', 1962, 'c4,e5,e3,Nf6,d4,exd4,exd4,Bb4+,Nc3,d6,Bg5,O-O,Nf3,Bg4,h3,Re8+,Be3,Bxf3,Qxf3,Ne4,O-O-O,Nxc3,bxc3,Bxc3,Qxb7,Nc6,Qxc6,Rb8,Bd3,Rb6,Qa4,Qb8,d5', 'Rb1+,Bxb1,Qb2#', 'https://lichess.org/training/BSaBS');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bsaEu', 'Rapid', 'KURUKSHETRA777', 1627, 'Zminoski', 1619, 'e4,c5,d4,cxd4,Qxd4,Nc6,Qd3,b6,a3,a5,Qf3,Bb7,Bc4,e6,Bd3,Ne5,Qe2,Nxd3+,cxd3,Rc8,Nc3,g6,Nb5,Rxc1+,Rxc1,Qg5,Rc7,Ba6,Nc3,Qxg2,Qf3,Qg5,Nge2,Bg7,Ra7,Bb5,Ra8+,Ke7,Nxb5,Qxb5,O-O,Qc6,Ra7,Nf6,Rc1,Qd6,Rcc7,Qe5,d4,Qg5+,Ng3,Rd8,e5,Nd5,Rcb7,Qc1+,Kg2', 'Nf4+,Qxf4,Qxf4', 'https://lichess.org/training/bsaEu');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bsB0R', 'Rapid', 'username235', 1964, 'hadi1366', 1921, 'd4,d5,Nf3,e6,Bf4,Bd6,Bxd6,Qxd6,e3,Bd7,a3,Nc6,b4,Nxb4,axb4,Qxb4+,Nbd2,Nf6,Rb1,Qc3,Rxb7,a5,Bd3,Ne4,Bxe4,dxe4,Ne5,a4,O-O,a3,Nxd7,Kxd7,Nb3,Rhb8,Rxb8,Rxb8,Qd2', 'Rxb3,Qxc3,Rxc3', 'https://lichess.org/training/bsB0R');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bSc15', 'Blitz', 'knightmhere', 1996, 'yuvrajch', 1998, 'e4,e5,Nf3,Nc6,Bc4,Bc5,O-O,Nf6,d4,Bxd4,Nxd4,Nxd4,Bg5,h6,Bh4,Nc6,f4,d6,fxe5,Nxe5,Bb3,Be6,Bxe6,fxe6,Bxf6,gxf6,Qh5+,Nf7,Qg6,Qe7,Rxf6,Rf8,Nc3,O-O-O,Rxe6,Qg5,Qxg5,Nxg5,Rxh6,Rg8,Rf1,b5,Nxb5,Nxe4,Nxa7+,Kb7,Nb5,Rd7,Rf3,Nd2,Rd3,Ne4,Rb3,Kc6,Nd4+,Kd5,Nf5,Rf7,Ne3+,Kc6,Rb4,Nd2,h3,Nf3+,Kh1,Ne1,Rc4+,Kd7,a4,Rf2,Rh7+,Kc8,Rcxc7+,Kb8,Rb7+,Ka8,Ra7+,Kb8,Rhb7+,Kc8,Nd5', 'Rf1+,Kh2,Rxg2#', 'https://lichess.org/training/bSc15');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bSC5G', 'Rapid', 'mbudjac', 1840, 'ChessWithPanda', 1824, 'd4,Nf6,Nf3,g6,g3,Bg7,Bg2,d6,O-O,Be6,c3,Qd7,Re1,Bh3,Bh1,O-O,e4,Bg4,Bg2,Nc6,Nbd2,Rfe8,Qb3,Bh3,Bh1,Na5,Qb4,b6,e5,Nd5,Qa3,c5,b4,cxb4,cxb4,Nc6,Rb1,b5,Qb3,e6,a3,Bg4,Bg2,Bh6,h3,Bxf3,Nxf3,Bxc1,Rbxc1,h6,Red1,Rad8,exd6,Qxd6,Ne5,Nxe5,dxe5,Qxe5,Bxd5,exd5,Rc5,Qf5,Rcxd5,Rxd5,Rxd5', 'Re1+,Kg2,Qe4+,Qf3,Rg1+,Kxg1,Qxf3', 'https://lichess.org/training/bSC5G');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bSCt9', 'Blitz', 'energy382', 2489, 'HorstBrack', 2463, 'c4,e6,g3,d5,d4,Nf6,Bg2,dxc4,Nf3,a6,Ne5,Bb4+,Nc3,Nd5,O-O,b5,e3,Bb7,Nxd5,Bxd5,e4,Bb7,Nxc4,O-O,Ne5,Bd6,Nd3,Nd7,Bd2,c5,dxc5,Nxc5,Nxc5,Bxc5,Qe2,Qb6,Rac1,Rfd8,a3,Bd4,Rc2,a5,Rfc1,Rd7,b4,a4,Bf1,Ba6,Rc6,Qb7,Bf4,e5,Bg5,f6,Be3,Rad8,h4,Rd6,Rc7,Qxe4,Rxg7+,Kh8,Rg4,Qf5,Bh6,R6d7,Bh3,Bxf2+,Qxf2,Rd1+,Rxd1,Rxd1+,Bf1,Qxg4', 'Qxf6+,Kg8,Qf8#', 'https://lichess.org/training/bSCt9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bscun', 'Rapid', 'Alexzd', 1766, 'phancaoduchuy', 1758, 'e4,e5,Nf3,Nc6,Bb5,Bc5,O-O,d6,c3,Bg4,h3,Bh5,g4,Bg6,Re1,Nf6,d4,exd4,cxd4,Bb4,Nc3,Bxc3,bxc3,Bxe4,d5,O-O,dxc6,bxc6,Bd3,Bd5,c4,Be6,Bg5,h6,Bh4,g5,Nxg5,hxg5,Bxg5,Kg7,Rc1,Rh8,h4,Qd7,h5,Bxg4,h6+,Kf8,Bxf6,Bxd1,Bg7+,Kg8,Rcxd1,Qg4+,Kf1,Qh3+,Kg1,Rxh6,Bxh6,Qxh6,Re3,Rb8,Kg2,Qf6,Rh1,Rb2', 'Re8+,Kg7,Rh7#', 'https://lichess.org/training/Bscun');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BScvM', 'Classical', 'girish1977', 1715, 'Volgograd_Oleg', 1830, 'e4,e5,Nf3,d6,Bc4,Nf6,Nc3,h6,h3,a6,a3,b5,Ba2,Bb7,d3,c5,Be3,b4,axb4,cxb4,Nd5,Bxd5,exd5,Qa5,O-O,Nxd5,Bc4,Nxe3,Rxa5,Nxd1,Rxd1,Be7,Bd5,Ra7,c4,O-O,b3,Nd7,Rda1,Nc5,Rb1,Bf6,Be4,g6,Ne1,Bg5,Rb2,f5,Bd5+,Kg7,Raa2,Bf6,Rb1,a5,g3,e4,dxe4,fxe4,f4,Bd4+,Kh2,g5,Rd2,Bc3,Rf2,gxf4,gxf4,a4,bxa4,Rxa4,Rg2+,Kh7,Nc2,Rxf4,Rbg1,Ra7,Rg6,Be5', 'Bg8+,Kh8,Rxh6+,Rh7,Rxh7#', 'https://lichess.org/training/BScvM');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bse8c', 'Rapid', 'DontmessWithMe_2', 2425, 'Tesla2020', 1909, 'd4,d6,c4,e6,e4,g6,f3,Bg7,Ne2,b6,Be3,Bb7,Nbc3,Nd7,Qd2,Ne7,Bh6,O-O,h4,c5,d5,exd5,cxd5,Ne5,h5,Nc4,Qc1,Ne5,Bxg7', 'Nd3+,Kd2,Nxc1', 'https://lichess.org/training/Bse8c');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bseo3', 'Blitz', 'Slori', 2009, 'FIL223aa', 2032, 'c4,f5,Nc3,Nf6,d3,g6,Nf3,Bg7,Bg5,O-O,g3,d6,Bg2,Nc6,Bxf6,Bxf6,O-O,e5,Nd2,Be6,Nd5,Bg7,b4,Ne7,b5,c6,Nxe7+,Qxe7,bxc6,bxc6,Bxc6,Rac8,Bd5,Kh8,Nb3,f4,f3,Bh3,Rf2,fxg3,hxg3,Qg5,Kh2,Qh5,Kg1,Qg5,Kh2,Bf5,Qh1,Qe3,Qg1', 'Qh6+,Kg2,Qh3#', 'https://lichess.org/training/Bseo3');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bSEqD', 'Rapid', 'petonnio', 1758, 'krgena', 1969, 'e4,c6,f4,d5,exd5,cxd5,Nf3,Nc6,Bb5,Bg4,h3,Bxf3,Qxf3,e6,O-O', 'Qb6+,Kh2,Qxb5', 'https://lichess.org/training/bSEqD');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bSfT9', 'Rapid', 'Stockfish109', 1790, 'Dolmetcher', 1884, 'd4,e6,g3,Bd6,Bg2,Ne7,Nf3,Nec6,O-O,O-O,b3,e5,Bb2,Re8,dxe5,Nxe5,Nbd2,Nxf3+,Nxf3,Nc6,a3,Qe7,c3,Qxe2,Qc1,h6', 'Re1,Qxe1+,Nxe1', 'https://lichess.org/training/bSfT9');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BSGUR', 'Rapid', 'Bojanov', 1835, 's1mpl3x', 1970, 'e4,c5,Bc4,Nf6,d3,e6,h3,d5,exd5,exd5,Bb3,Be7,Nf3,O-O,O-O,Nc6,a3,b6,Nc3,d4,Ne2,Bb7,Ng3,Nd5,Nh2,f5,Ne2,Kh8,Nf4,Nxf4,Bxf4,Bd6,Qd2,Na5,Ba2,Qf6,Bxd6,Qxd6,b4,Nc6,bxc5,Qxc5,Nf3,Na5,Ng5,Bd5,Bxd5,Qxd5,Qf4,Rac8,Rfc1,Nc6,Nf3,Rfd8,Qh4,Ne5,Nxe5,Qxe5,Rab1,Qc5,a4,Qf8,Rb5,Rc7,Rxf5,Qg8,Rf4', 'g5,Qg3,gxf4', 'https://lichess.org/training/BSGUR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BsHbX', 'Rapid', 'kostan', 2268, 'Michael_Irish', 2028, 'd4,d5,c4,c6,cxd5,cxd5,Nc3,Nf6,Nf3,Nc6,Bf4,a6,e3,Bg4,h3,Bxf3,Qxf3,e6,g4,h6,g5,hxg5,Bxg5,Be7,a3,Qb6,Rb1,Qa5,Bg2,Ne4,Bxe7,Nxc3,Bb4,Nxb4,bxc3,Nc2+,Kd2,Nxa3,Rxb7,Nc4+,Kd3,Nd6,Rb3,Qc7,Qg3,Qc4+,Kc2,Qe2+,Kc1,Nf5,Rb8+,Ke7,Qc7+,Kf6,Qe5+,Kg6,e4,Raxb8', 'exf5+,exf5,Qxe2', 'https://lichess.org/training/BsHbX');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bsHiW', 'Rapid', 'sayedmaher', 1672, 'RaphaelGoye', 1672, 'e4,c5,d3,Nc6,Be3,d6,Nf3,Nf6,Nbd2,g6,c3,Bg7,Be2,O-O,O-O,a6,Nb3,b5,Re1,Bb7,d4,cxd4,Bxd4,Nxe4,Bxb5,axb5,Rxe4,Bxd4,Rxd4,Qc7,Rd2,Ne5,Nxe5,dxe5,Re2,Qc6,f3,Rad8,Qc2,Ba6,Ree1,b4,Qe4,Qb6+,Kh1,Qf2,Qe3,Qxb2,cxb4,Rc8,Qxe5,Rc2,Qg3,e6,Nc5,Bb5,a3,Rd8,Ne4,Re2,Rxe2', 'Qxa1+,Re1,Rd1', 'https://lichess.org/training/bsHiW');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BSj8h', 'Rapid', 'bholamoira', 1602, 'minhanhbin', 1640, 'e4,e5,d4,exd4,c3,dxc3,Bc4,cxb2,Bxb2,Nc6,Nf3,d6,O-O,Be6,Na3,Nf6,Bxe6,fxe6,Ng5,Qd7', 'Bxf6,gxf6,Qh5+,Kd8,Nf7+,Kc8,Nxh8', 'https://lichess.org/training/BSj8h');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bsjIN', 'Rapid', 'Pestov1987', 1825, 'mortezafallah', 1730, 'e4,e5,Bc4,Nf6,Nf3,d5,exd5,Nxd5,Nxe5,Be6,O-O,Bd6,d4,O-O,Qf3,c6,Qg3,f6,Bh6,Qc7,f4,fxe5,fxe5,Rxf1+,Kxf1,Ne3+,Qxe3,Bxc4+,Kg1,Qf7,Na3,gxh6,Nxc4,Be7,e6,Qg6,Ne5,Qg5,Qf3,Bf6,Rf1,Kg7,e7,Na6,Nd7,Bxd4+', 'Kh1,Qxe7,Qg4+,Kh8,Qxd4+', 'https://lichess.org/training/bsjIN');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bsjpO', 'Classical', 'PabloMartin91', 1622, 'veryoriginalusername', 1710, 'e4,c5,Nc3,d6,Nf3,Nf6,d4,cxd4,Nxd4,g6,Bg5,Bg7,Bb5+,Bd7,Qd2,O-O,Nd5,Re8,f3,Nxd5,exd5,Bxd4,Bxd7,Qxd7,Qxd4,Qb5,O-O-O,e5,Qh4,Nd7,Rhe1,f6,Bh6,Rac8,g4,Kf7,g5,Rc4,f4,Rxf4,Qh3,Rc8', 'Qe6#', 'https://lichess.org/training/bsjpO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BSkHR', 'Rapid', 'iyer-rohit', 1802, 'aprozac', 1747, 'e4,c5,Nf3,Nc6,c3,e5,Bc4,a6,O-O,h6,d3,b5,Bb3,Nf6,Be3,Be7,d4,exd4,cxd4,c4,Bc2,O-O,e5,Nd5,Nbd2,d6,Be4,Be6,exd6,Nxe3,fxe3,Qxd6,Bc2,Bg4,h3,Bh5,Ne4,Qb4,g4,Bg6,Nh4,Bxh4,Qf3,Bxe4,Bxe4,Rae8,Bxc6,Re6,Bd5,Rf6,Qe2,Rxf1+,Qxf1,Qxb2,Bb7,Qd2,Rd1,Qxe3+,Kh1,Rd8,d5,Qe4+,Kg1,Qe3+,Kh1,c3,d6,c2,Rc1,Rxd6,Rxc2,Rd2,Rc8+,Kh7', 'Qf5+,g6,Qxf7#', 'https://lichess.org/training/BSkHR');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bskjL', 'Blitz', 'ChessMan794', 1656, 'SRIRAMAKRISHNA', 1665, 'd4,e6,Bf4,d5,e3,c5,Nf3,c4,c3,Bd6,Bg3,Ne7,Nbd2,O-O,Be2,Nbc6,e4,Re8,e5,Bc7,Ng5,Nf5,Ndf3,h6,h4,Nxg3,fxg3,hxg5,hxg5,Ne7,g4,Ng6,Qd2,Qe7,O-O-O,a5,Rh5,b5,Rdh1,b4,Nh4,bxc3,Qxc3,Qb4,Qc2,Bb6,Nxg6,fxg6,Rh8+,Kf7,Rxe8,Kxe8,Qxg6+,Kd7,Qxg7+,Qe7,Qg6,Kc6,Rh7,Qb4', 'Qe8+,Bd7,Qxd7#', 'https://lichess.org/training/bskjL');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bskrl', 'Classical', 'dadmoni', 1817, 'darthcidius', 1720, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e6,c3,Nf6,Bd3,a6,O-O,e5,Nf5,d5,exd5,Nxd5,c4,Ndb4,Be4,Qxd1,Rxd1,g6,Ne3,Nd4,Nc3,f5,Bb1,Be6,a3,Nbc6,Ncd5,O-O-O,b4,f4,Nb6+,Kb8,Ned5,Bxd5,Nxd5,Nb3,Ra2,Ncd4,Kf1,b5,Bd3,Rc8,c5,Bxc5,bxc5,Rxc5,Bxf4,Rxd5,Be4,Rc5,Bg3,Rd8,Rb2,Ka7', 'Rxb3,Nxb3,Rxd8,Rc1+,Ke2', 'https://lichess.org/training/bskrl');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BsKxq', 'Blitz', 'NM oberschlumpf', 2303, 'mahend_KBPL', 2227, 'd4,e5,dxe5,d6,exd6,Bxd6,Nd2,Nc6,Ne4,Bb4+,Bd2,Be7,Bc3,Nf6,Nxf6+,Bxf6,Qxd8+,Nxd8,Bxf6,gxf6,O-O-O,Nc6,Nf3,Bd7,e3,O-O-O,Bb5,a6,Ba4,Rhg8,g3,Bg4,Bxc6,bxc6,Rxd8+,Rxd8,Nd4,c5,Nb3,Rd6,Nxc5,Rd5,Nd3,c5,b3,c4,bxc4,Ra5,Kb2,Rh5,h4,Rf5,Re1,Rf3,Kc1,Bf5,Re2,Be6,c5,Bxa2,Nf4,Bc4,Rd2,Kc7,Kd1,Kc6,Ke1,Kxc5,c3,a5,Rd8,a4,Rc8+,Kb5,Rb8+,Kc5,Rc8+,Kb5,Rb8+,Kc5,Ra8,Bb5,c4,Kxc4,Ke2,Rxf4,gxf4,Kb4+,Kd2,Kb3,Kc1,Bd3,Rb8+,Kc3,Ra8,Kb3,Rb8+,Kc3,Rb6,a3,Rxf6', 'a2,Rc6+,Kb3', 'https://lichess.org/training/BsKxq');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BSm9D', 'Rapid', 'manny36pgh', 1863, 'M_robson', 1779, 'e4,e5,Bc4,Nf6,d3,Bc5,h3,d5,Bb3,dxe4,Nc3,Qd4,Be3,Qd6,Bxc5,Qxc5,dxe4,O-O,Nf3,Nc6,a3,Nd4,Nxd4,Qxd4,O-O,Nxe4', 'Qxd4,exd4,Nxe4', 'https://lichess.org/training/BSm9D');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BSnGY', 'Blitz', 'Ykutsk', 2043, 'PorterOsa1987', 1996, 'e4,c6,d4,d5,e5,Bf5,Bd3,Bg6,f4,e6,Nf3,c5,c3,Nc6,a3,Qb6,b4,cxd4,cxd4,Nxb4,axb4,Bxb4+,Kf1,Ne7,Bxg6,hxg6,g4,Nc6,Be3,a5,Nbd2,Qa6+,Kg2,Qd3,Re1,Bc3,Ra3,b5,Re2,b4,Ne1,Qa6,Ra2,Bxd4,Nb3,Bc3,Nc5,Qc4,Ned3,d4,Bf2,Qd5+,Kg3,Ke7,Qb3,Rh3+,Kxh3,Qf3+,Kh4,Rh8+,Kg5,f6+,exf6+', 'gxf6+,Kxg6,Qxg4#', 'https://lichess.org/training/BSnGY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bsNMa', 'Rapid', 'RenanChess', 1788, 'danieldignet', 1630, 'e4,c5,Bc4,e6,Nc3,d6,Nf3,Nc6,d3,Bd7,Be3,Na5,Bb5,Bxb5,Nxb5,a6,Nc3,e5,Nd5,Nf6,Bg5,Be7,Bxf6,Bxf6,Qd2,Nc6,g4,O-O,g5,Be7,h4,g6,h5,Nd4,Nxd4,Bxg5,Qe2,cxd4,Qg4,h6,hxg6,fxg6,Ke2,Qc8', 'Ne7+,Kg7,Nxc8', 'https://lichess.org/training/bsNMa');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BSnys', 'Rapid', 'b4azil', 1787, 'Johnss', 1831, 'e4,c5,Nf3,Nf6,Nc3,d5,e5,Ne4,d3,Nxc3,bxc3,e6,Bg5,Be7,Qd2,h6,Bxe7,Qxe7,Be2,Nc6,O-O,O-O,Rab1,a6,d4,c4,Qf4,Qa3,Qe3,Qxa2,Rfc1,Qa3,Nh4,Qe7,Qg3,Qg5,Bg4,Ne7', 'f4,Qxg4,Qxg4', 'https://lichess.org/training/BSnys');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('Bsnyz', 'Rapid', 'NichirenGyal256', 1724, 'chessmenfranco', 1697, 'e4,c5,Nf3,g6,Bc4,Bg7,c3,a6,a4,Qa5,O-O,b5,Bd5,Ra7,d4,c4,e5,e6,Be4,Bb7,Re1,Ne7,Bg5,Nbc6,Nbd2,h6,axb5,Qxb5,Bf6,Bxf6,exf6,Ng8,Qe2,d5,Bxg6,Bc8,Bxf7+,Kxf7,Ne5+,Nxe5,dxe5,Ra8,Qh5+,Kf8,Re3,Qe8,Qg4,Qf7,Rae1,h5,Qh4,Nh6,Nf3,Nf5,Qf4,Nxe3,Rxe3,Rg8,Qh6+,Ke8,Ng5,Qg6', 'f7+,Qxf7,Nxf7', 'https://lichess.org/training/Bsnyz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BSQun', 'Blitz', 'Ivan_Postov', 1737, 'dolphstar', 1723, 'e4,e5,Nf3,Nc6,Nc3,Nf6,a3,Bc5,Bc4,h6,h3,O-O,d3,Nd4,g4,d6,g5,Nd7,gxh6,g6,Nd5,Nf6,c3,Nxf3+,Qxf3,Nxd5,Bxd5,Be6,Rg1,Bxd5,exd5,f5,Rxg6+,Kh7,Rg7+,Kh8,Bg5,Qe8,O-O-O,e4,dxe4,fxe4,Qg4,Rxf2,Rg1,e3,Bxe3,Bxe3+,Kb1,Rf4', 'Rh7+,Kxh7,Qg7#', 'https://lichess.org/training/BSQun');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BSRtA', 'Rapid', 'tolja81', 1779, 'scorp511', 2144, 'd4,d5,c4,e6,Nc3,Nf6,cxd5,exd5,Bd2,Bf5,Nf3,c6,e3,Bd6,Be2,Nbd7,O-O,O-O,a3,Ne4,Nxe4,Bxe4,Bc3,Re8,Nd2,Bg6,f4,h6,Nf3,Rxe3,Ne5,Bxe5,fxe5,Re4,g3,f6,Bd3,fxe5,Bxe4,Bxe4,dxe5,Qe7,Qh5,Qc5+,Rf2,Rf8,Rf1,Bd3,e6', 'Bxf1,Qf7+,Rxf7', 'https://lichess.org/training/BSRtA');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BSs4m', 'Rapid', 'kylefantastic', 1934, 'Odisseu32', 1897, 'e4,e5,Nf3,Nc6,Bb5,a6,Bxc6,dxc6,Nc3,Bd6,d4,Qe7,dxe5,Bxe5,Nxe5,Qxe5,O-O,Nf6,Qd3,Ng4,f4,Qc5+,Kh1,Nf2+,Rxf2,Qxf2,Be3,Qh4,Rf1,O-O,f5,Rd8,Qc4,Re8,g3,Qe7,Bc5,Qe5,Bd4,Qa5,Rf4,Bd7,Rg4,g6,h4,b5,Qb3,b4', 'fxg6,hxg6,Rxg6+', 'https://lichess.org/training/BSs4m');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bsSBG', 'Rapid', 'EL30', 1703, 'orlyn19', 1686, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Bc5,Nxc6,Qf6,f3,Qxc6,Be2,Nh6,Bxh6,Qxh6,a3,a6,b4,Ba7,Nc3,O-O,Nd5,c6,Ne7+,Kh8,Nxc8,Raxc8,Qxd7,Qf6,Rd1,h6,Qxb7', 'Qc3+,Kf1,Qe3,Qxa7,Qxa7', 'https://lichess.org/training/bsSBG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bsT2X', 'Rapid', 'Drago21', 1938, 'Romanza', 1783, 'e4,e5,Bc4,Nf6,d3,Bc5,h3,d6,Nf3,Nc6,c3,a5,O-O,h6,Be3,Bb6,Nbd2,g5,Bxb6,cxb6,Nh2,Rg8,Ng4,Nxg4,hxg4,h5,gxh5,g4,g3,Qg5,Kg2,Qxh5,Rh1,Qg5,Nf1,Be6,Bb5,Ke7,Ne3,Na7,Ba4,b5,Bb3,a4,Bxe6,fxe6,Qe2,Raf8,d4,exd4,cxd4,Qf6,Rad1,Qf3+,Qxf3,gxf3+,Kf1,Rh8,Rxh8,Rxh8,Kg1,Nc6,d5,Nb4,a3,Na6,Ng4,Rc8,Ne3,Nc5,Rc1,Rh8,Ng4,Nb3,Rc7+,Kd8,Rxb7,Kc8,Rxb5', 'Nd4,Nh2,Nxb5', 'https://lichess.org/training/bsT2X');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BStgG', 'Rapid', 'GuentherBergerAUT', 1970, 'duchamp66', 1961, 'd4,Nf6,Bg5,e6,e4,h6,Bxf6,Qxf6,e5,Qe7,f4,d6,Nf3,dxe5,fxe5,c5,d5,exd5,Qxd5,Be6', 'Bb5+,Nd7,Qxb7', 'https://lichess.org/training/BStgG');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BSULH', 'Classical', 'chacalfrance', 1910, 'Daaaaaaaark', 1762, 'e4,e5,d4,f6,dxe5,fxe5,f4,Qh4+,g3,Qe7,Qh5+,g6,Qxe5,Qxe5,fxe5,Nc6,Nf3,a6,a4,b6,Bg2,Bb7,O-O,O-O-O,Nc3,Bb4,Nd5,Bc5+,Kh1,Nge7,Nxe7+,Bxe7,Bf4,h6,c3,g5,Be3,g4,Nd4,Nxe5,b4,Nc4,Bf2,d5,exd5,Bxd5,b5,Bxg2+,Kxg2,axb5,axb5,Ne5,Rfe1,Bd6,Nc6,Rde8,Bd4,Nxc6,bxc6,Rxe1', 'Ra8#', 'https://lichess.org/training/BSULH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BSUza', 'Bullet', 'RENZZO77', 1946, 'dmitriy', 1585, 'e4,c5,Nf3,d6,Bc4,Nc6,O-O,g6,h3,Bg7,a3,Bd7,Nc3,Qc8,Kh2,Ne5,Nxe5,Bxe5+,f4,Bd4,Ne2,Bg7,c3,Nf6,Ng3,Nh5,Nxh5,gxh5,Qxh5,e6,f5,Rf8,Qxh7', 'Be5+,Kh1,Rh8,Qxh8+,Bxh8', 'https://lichess.org/training/BSUza');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bSV9I', 'Rapid', 'montejato', 2213, 'Naamafantti', 2183, 'e4,c6,d4,d5,exd5,cxd5,Bd3,Nf6,Bf4,Nc6,c3,Bg4,Nf3,e6,Nbd2,Bd6,Bg5,Be7,Qb3,Qc7,O-O,O-O,Rac1,a6,c4,dxc4,Bxc4,Na5,Qe3,Nxc4,Rxc4,Qb6,Bxf6,Bxf6,Ne4,Be7,Ne5,Bf5,Nd7,Qb5,Nxf8,Qxc4,Nd7,Qxa2,b3,Qc2,Nec5,b5,h3,a5,g4,Bg6,Nxe6,Qe4,Qxe4,Bxe4,Nec5,Bd5,Re1,Bd6', 'Nb6,Rd8,Nxd5', 'https://lichess.org/training/bSV9I');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BSwUn', 'Rapid', 'ShallowGuy', 1662, 'kunjan1', 1682, 'd4,e6,e4,d6,Nf3,Be7,Nc3,h6,Bc4,Nf6,Bf4,c5,d5,exd5,Nxd5,Nxd5,Qxd5,O-O,Rd1,Be6,Qxb7,Nd7,Bxe6,fxe6,Bxd6,Bxd6,Rxd6,Rf7,Ne5,Qa5+,c3,Rb8,Qa6', 'Qxa6,Rxa6,Nxe5', 'https://lichess.org/training/BSwUn');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BSxAK', 'Rapid', 'Velves821', 1939, 'zkel29', 1884, 'd4,f5,c4,e6,Nf3,Nf6,Nbd2,g6,b3,Bg7,Bb2,O-O,e3,c6,Be2,d5,cxd5,cxd5,Ne5,Nc6,f4,Ne4,Ndf3,Qa5+,Kf1,Nxe5,Nxe5,Bxe5,dxe5,Bd7,g3,Rac8,Kg2,Bb5,Bf3,Rfd8,a4,Ba6,Rc1,Qd2+,Qxd2,Nxd2,b4,Rxc1,Rxc1,Nxf3,Kxf3,Bc4,Bd4,a6,g4,Rc8,Kg3,Rc6,h3,h5,gxh5,gxh5,Kh4,Kh7,b5,axb5,axb5,Bxb5,Rxc6,bxc6,Kxh5,Bf1,h4,Be2+,Kg5,Kg7,h5,Bg4', 'h6+,Kh7,Kf6', 'https://lichess.org/training/BSxAK');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bSXOC', 'Rapid', 'FIFOU', 2239, 'FM Chessmotion', 2480, 'd4,d5,c4,e6,Nc3,c6,Nf3,dxc4,a4,Bb4,e4,b5,Be2,Nf6,Bg5,h6,Bxf6,Qxf6,O-O,Bxc3,bxc3,Nd7,Qc2,Nb6,Ne5,Bd7,Rfb1,Qe7,axb5,cxb5,Ra5,a6,Rba1,Bc8,Rxb5', 'axb5,Rxa8,Nxa8', 'https://lichess.org/training/bSXOC');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bsXpH', 'Rapid', 'Thomas_J', 1634, 'ImagineBacon', 1698, 'e4,c5,Nf3,Nc6,d4,cxd4,Nxd4,e5,Nb3,Nf6,Nc3,Bb4,f3,O-O,Bd2,Be7,Qe2,d5,O-O-O,d4,Nd5,Nxd5,exd5,Qxd5,f4,f6,g3,Qxh1,Bg2,Qxh2', 'Bd5+,Kh8,Qxh2', 'https://lichess.org/training/bsXpH');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bsYEO', 'Rapid', 'sanihmaldives', 1918, 'ataka23', 1903, 'g3,d5,Bg2,e6,d4,Nf6,Nf3,c5,c3,Nc6,O-O,Be7,a3,b5,b4,c4,Bb2,O-O,Nbd2,Re8,Re1,h5,h4,Ne4,Nxe4,dxe4,Ne5,Nxe5,Bxe4,Ng4,Bxa8,Bxh4,Bc6,Bd7,Bxd7,Qxd7,gxh4,Qe7,Kg2,Qxh4,Rh1,Qxf2+,Kh3,Qe3+,Kg2,Qf2+,Kh3,h4,Qg1,Qxe2,Qg2,Nf2+,Kxh4,Qxb2,Raf1,Qxc3,Qxf2,f6,Rh3', 'g5+,Kg4,f5+,Kxg5,Qxh3', 'https://lichess.org/training/bsYEO');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BsYKc', 'Rapid', 'wookye', 1839, 'cursed_russian', 1860, 'd4,Nf6,c4,d5,cxd5,g6,Nc3,Nxd5,e4,Nxc3,bxc3,Bg7,e5,c5,Be3,O-O,Nf3,Bg4,Be2,Nc6,O-O,Qa5,Qc2,Rac8,Rfb1,cxd4,Nxd4,Bxe2,Nxe2,Nxe5,Rxb7,Nc4,Rxa7', 'Nxe3,Rxa5,Nxc2', 'https://lichess.org/training/BsYKc');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BSZAY', 'Blitz', 'IM Acosta-Pablo', 2490, 'adonaymb', 2218, 'd4,g6,Nf3,Bg7,e3,d6,Be2,Nd7,O-O,Ngf6,b3,O-O,Bb2,Rb8,c4,c5,Nc3,a6,Rc1,Qa5,Qc2,b5,cxb5,axb5,a4,bxa4,Nxa4,cxd4,Nxd4,Bb7,Bc3,Qa8,f3,Qa7,Bd2,Rfc8,Qd3,Nc5,Qb1,Nxa4,bxa4,Qxa4', 'Rxc8+,Rxc8,Qxb7', 'https://lichess.org/training/BSZAY');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BSzHF', 'Blitz', 'samed3834', 1536, 'Phuture', 1518, 'e4,Nc6,Nf3,d6,h3,e5,Bc4,h6,Nc3,Be7,d3,Na5,O-O,Nxc4,dxc4,Be6,b3,Nf6,Re1,Qd7,Nd5,Bd8,a4,c6,Nxf6+,gxf6,Ba3,Bc7,Qe2,O-O-O,Rad1,Rhg8,Kh2,Rxg2+,Kxg2,Bxh3+,Kh2,Bg2,Kxg2,Qg4+,Kh2,Rg8,Rg1', 'Qh5+,Nh4,Qxh4#', 'https://lichess.org/training/BSzHF');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BSZJz', 'Rapid', 'eyklein', 1702, 'thecoolboy123', 1701, 'd4,e6,e3,Nf6,Nf3,d5,c4,c5,dxc5,Bxc5,Nc3,O-O,cxd5,Nxd5,Nxd5,Qxd5,Qxd5,exd5,a3,Bg4,Be2,Bb6,h3,Bxf3,Bxf3,Rd8,O-O,Nd7,Bxd5,Nc5,Bc4,Rac8,b3,Na4,Bxf7+,Kxf7,bxa4,Rc4,Bb2,Rxa4,Rfd1,a6,Rxd8,Bxd8,Rd1,Be7,Rd7,b5,Bd4,Ke6,Ra7,Rxa3', 'Rxe7+,Kxe7,Bc5+,Ke6,Bxa3', 'https://lichess.org/training/BSZJz');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('BsZMB', 'Blitz', 'msharawana1', 1756, 'Neychess11', 1778, 'g4,d5,Bg2,Bxg4,c4,e6,cxd5,exd5,Qb3,Bc8,Bxd5,Be6,Bxe6,fxe6,Qxb7,Nd7,Nc3,Ngf6,Nb5,Bd6,Nxd6+,cxd6,d3,O-O,Qg2,Kh8,Nf3,Qe8,Qh3,e5,Ng5,h6,Rg1,Qg6,Ne6,Qxg1+,Kd2,Qxf2,b3,Rf7,Bb2,Re8,Ng5,Rff8,Nf3,e4,dxe4,Nxe4+,Kc2,Ne5,Rf1,Qxe2+,Kb1,Nxf3', 'Qxh6+,Kg8,Qxg7#', 'https://lichess.org/training/BsZMB');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bT4Ql', 'Rapid', 'sangram_r_j', 1999, 'Sinha1234', 1956, 'e4,c5,Nf3,d6,d4,cxd4,Qxd4,Nf6,e5,Nfd7,exd6,exd6,Bb5,a6,Bxd7+,Bxd7,O-O,Nc6,Re1+,Be6,Qc3,Qc7,Ng5,O-O-O,Nxe6,fxe6,Rxe6,Be7,Na3,Bf6,Qe3,Bd4,Qh3,Kb8,c3,Bb6,Nc4,Ba7,Bf4,Qf7,Bxd6+,Rxd6,Rxd6,Bxf2+,Kh1,Qxc4,Qf3,Bc5,b3,Qh4,Rd5,Rf8,Qd1,Be3,b4,Rc8,b5,axb5,Rxb5,Bf4,Qg1,Qf6,g3,Bc7,a4,Qxc3,Rab1,Qf3+,Qg2,Qxg2+,Kxg2,Na5,Rc1,Rd8,Rxc7,Kxc7,Rxa5,Rd2+,Kh3,Kb6,Rb5+,Kc6,Rg5,Rd7,Kh4,Kd6,g4,Ke6,Rb5,h6,Kg3,Rd3+,Kh4,Rd7,h3,Kf7,Rf5+,Kg6,Rf3,Rd4,Ra3,Kf6,Kg3,g6,a5,Rb4,h4,g5,hxg5+,Kxg5,a6,bxa6,Rxa6,Rxg4+,Kh3,Rc4,Ra5+,Kg6,Ra6+,Kh7,Ra7+,Kg6,Ra6+,Kg5,Ra5+,Kf4,Ra6,Rc3+,Kg2,Rg3+,Kh2,h5', 'Ra4+,Kg5,Kxg3', 'https://lichess.org/training/bT4Ql');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bt5qZ', 'Rapid', 'xxx1234560', 1910, 'aydin00', 1932, 'e4,e5,Nf3,Nc6,d4,exd4,Nxd4,Nxd4,Qxd4,b6,Nc3,Bc5,Qe5+,Be7,Qxg7,Bf6,Qg3,c6,Bd2,Qe7,Bd3,Be5,Qf3,Nf6,O-O,d6,Be3', 'Bg4,Qg3,Bxg3', 'https://lichess.org/training/bt5qZ');");
-        puzzleDB.executeSql("INSERT INTO `pgn` (`game_key`, `game_type`, `white_name`, `white_point`, `black_name`, `black_point`, `problem`, `solution`, `game_link`) VALUES('bT64z', 'Blitz', 'crunch02', 2263, 'NM VictorMMagoP', 2375, 'e4,c5,Nc3,d6,f4,g6,Nf3,Bg7,Bb5+,Bd7,Bc4,e6,O-O,Ne7,Qe1,Bc6,d3,O-O,f5,d5,Bb3,exf5,exd5,Nxd5,Bg5,Qd6,Nxd5,Bxd5,Be7,Qd7,Bxf8,Kxf8,Ne5,Qd6,Nc4,Bxc4,Bxc4,Bxb2,Rb1,Bd4+,Kh1,b6,Qh4,Kg7,Rbe1,Bf6,Qh3,Nc6,Qf3,Rd8,g4,Nd4,Qg2,fxg4,Re4,h5,Ref4,Nf5,Qe4,Rd7,Rxf5,gxf5,Qxf5,Qc6+,Qe4,Qxe4+,dxe4,Re7,Bd5,Kg6,Kg2,Bd4,h3,f6,hxg4,hxg4,Kg3,Rh7,Kxg4,Rh2,Bb3,Rg2+,Kf3,Rd2,Rh1,Kg5,Rh8,f5,Rg8+,Kf6,Rf8+,Ke7,Rxf5,a5,Rf7+,Kd6,Rg7,b5,Rg2', 'Rxg2,Kxg2,c4', 'https://lichess.org/training/bT64z');");
-    }
-
-    @Override
-    public int getPuzzleSetId() {
-        return 9;
-    }
-
-}
\ No newline at end of file
@@ -4,7 +4,6 @@ import tanzi.model.*;
 import tanzi.staff.BoardRegistry;
 
 import java.util.ArrayList;
-import java.util.List;
 
 public abstract class Arbiter {
 
@@ -16,69 +15,28 @@ public abstract class Arbiter {
      * it returns false.
      */
     public static boolean amISafe(int myColor, String mySquare, BoardRegistry br) {
+        return amISafe(myColor, Square.of(mySquare), br);
+    }
 
-        // I think I'm safe. They don't believe!  Let's see :)
-        boolean safe = true;
-
-        // first generate octal square for my square and associate octal square segment
-        OctalSquare octalSquare = new OctalSquare(mySquare);
-        OctalSquareSegment octalSquareSegment = new OctalSquareSegment(octalSquare.getOSSquare());
-
-        boolean segmentLoopSwitch = true;
-
-        int totalSegment = octalSquareSegment.getTotalSegment();
-        for (int i = 0; i < totalSegment; i++) {
-            // make sure if future segments need to be checked as told by previous iteration
-            if (!segmentLoopSwitch) break;
-
-            // for OSS, get a segment to calculate squares where possible enemy can come from
-            List<String> segment = octalSquareSegment.getSegment(i);
-            for (String square : segment) {
-
-                Piece piece = br.piece(square);
-                if (piece == null) continue; // empty square; go ahead
-
-                /*
-                 * since it is from own army, there is no way that an enemy piece can come along
-                 * the segment path; so ignore this segment
-                 * */
-                if (piece.color == myColor) break;
-
-                /*
-                 * got an enemy piece. now check if that enemy piece can come to that square
-                 * regardless of pin
-                 * */
-                if (Arbiter.pieceCanGo(piece.currentSquare(), mySquare, false, br)) {
-                    safe = false;
-                    /*
-                     * we no longer need to see any further as we have already discovered that
-                     * the square is guarded by enemy piece. discard this segment & further
-                     * segment looping
-                     * */
-                    segmentLoopSwitch = false;
-                    break;
-                } else {
-                    /*
-                     * we say break greedily, as we have found an enemy piece, and it can't reach
-                     * the king's dest square so, there is no possible way any other enemy piece
-                     * can come to the king square along this segment path. discard the segment;
-                     * but loop the next segment.
-                     * */
-                    break;
-                }
-
-            }
-
+    /*
+     * only the first piece along each segment of the OSS can come to my square, so the sliding
+     * attacks from my square give all those pieces at once.
+     * */
+    public static boolean amISafe(int myColor, int mySquare, BoardRegistry br) {
+        int enemyColor = Piece.getOppositeColor(myColor);
+
+        /*
+         * for each enemy piece found first along a segment, check if that enemy piece can come to
+         * the square regardless of pin. pieces of my army on the segments block the way for enemy.
+         * */
+        long enemies = GeometryEngineer.firstPieceAround(mySquare, br) & br.armyBitboard(enemyColor);
+        for (long bb = enemies; bb != 0; bb &= bb - 1) {
+            if (Arbiter.pieceCanGo(Bitboard.first(bb), mySquare, false, br)) return false;
         }
 
         // now check for knight attacks on the dest square if there is any
-        if (safe) {
-            int enemyColor = Piece.getOppositeColor(myColor);
-            int numOfKnight = GeometryEngineer.possibleKnightTo(mySquare, enemyColor, br).size();
-            safe = numOfKnight == 0;
-        }
-
-        return safe;
+        long enemyKnights = br.bitboard(Piece.KNIGHT, enemyColor);
+        return (AttackTable.knight(mySquare) & enemyKnights) == Bitboard.EMPTY;
     }
 
     /**
@@ -89,34 +47,31 @@ public abstract class Arbiter {
      * guarded by enemy pieces.
      */
     public static boolean pieceCanGo(String from, String to, boolean pinChecking, BoardRegistry br) {
+        return pieceCanGo(Square.of(from), Square.of(to), pinChecking, br);
+    }
+
+    public static boolean pieceCanGo(int from, int to, boolean pinChecking, BoardRegistry br) {
 
         Piece piece = br.piece(from);
-        if (piece == null) return false;
+        if (piece == null || to == Square.NONE) return false;
 
         int type = piece.type;
         int color = piece.color;
 
         // first get valid squares from GeometryEngineer and checks if we have valid squares at all
-        ArrayList<String> validSquares = GeometryEngineer.validSquare(type, color, from, true, br);
-        if (validSquares == null || validSquares.size() == 0) return false;
+        long validSquares = GeometryEngineer.validSquare(type, color, from, true, br);
+        if (validSquares == Bitboard.EMPTY) return false;
 
         // if it is a pawn then check if it can take any available enPasser
         EnPasser enPasser = br.restoreEnPasser(color);
-        if (type == Piece.PAWN && enPasser != null) {
-            // get the list of enPassant taker who can take the passer
-            String[] enPasserTaker = enPasser.taker;
-            for (String taker : enPasserTaker) {
-                /* if the srcSquare is found in the enPasserTaker then this move can take enPassant
-                 * piece, so add this source square as a valid square too
-                 */
-                if (taker.equals(from)) {
-                    validSquares.add(enPasser.intermediateSquare);
-                    break;
-                }
-            }
+        if (type == Piece.PAWN && EnPassant.amIEnpasserTaker(from, enPasser)) {
+            /* if the srcSquare is found in the enPasserTaker then this move can take enPassant
+             * piece, so add this source square as a valid square too
+             */
+            validSquares |= Bitboard.bit(Square.of(enPasser.intermediateSquare));
         }
 
-        if (!validSquares.contains(to)) return false;
+        if (!Bitboard.has(validSquares, to)) return false;
 
         // make sure whether the squares are guarded by enemy for the king
         if (type == Piece.KING)
@@ -139,46 +94,28 @@ public abstract class Arbiter {
      * after that, it also tries to calculate possible knights to the focus square.
      */
     public static ArrayList<String> whoCanGo(String focusSquare, int whichArmy, boolean pinCheck, BoardRegistry br) {
-        ArrayList<String> whoCanGo = new ArrayList<>();
-
-        OctalSquare octalSquare = new OctalSquare(focusSquare);
-        OctalSquareSegment segment = new OctalSquareSegment(octalSquare.getOSSquare());
-
-        for (int i = 0; i < segment.getTotalSegment(); i++) {
-            List<String> squareList = segment.getSegment(i);
-            for (String square : squareList) {
-                // get the piece
-                Piece piece = br.piece(square);
-
-                // found an empty piece
-                if (piece == null) continue;
-
-                // found an enemy; however we would like to see whether any piece from
-                // our army can make move to focusSquare regarding pin or not. we discard
-                // the segment path because there is no way that any of our piece can reach
-                // the focusSquare by CHESS RULES
-                if (piece.color != whichArmy) break;
-
-                // found a piece from our own army; let's see if it can go to destSquare
-                // regarding pin or not
-                boolean canGo = pieceCanGo(square, focusSquare, pinCheck, br);
-                if (canGo) {
-                    // found a piece which can make the move
-                    whoCanGo.add(square);
-
-                    // we then discard the segment because no more than one piece from our
-                    // army can go the focusSquare. so along this segment path, we have got
-                    // that piece
-                    break;
-                }
-            }
+        return Bitboard.toSquareList(whoCanGo(Square.of(focusSquare), whichArmy, pinCheck, br));
+    }
+
+    public static long whoCanGo(int focusSquare, int whichArmy, boolean pinCheck, BoardRegistry br) {
+        long whoCanGo = Bitboard.EMPTY;
+
+        // along each segment path, only the first piece can reach the focusSquare by CHESS RULES.
+        // if it is an enemy, there is no way that any of our pieces can come along that path.
+        long ownPieces = GeometryEngineer.firstPieceAround(focusSquare, br) & br.armyBitboard(whichArmy);
+        for (long bb = ownPieces; bb != 0; bb &= bb - 1) {
+            // found a piece from our own army; let's see if it can go to destSquare
+            // regarding pin or not
+            int square = Bitboard.first(bb);
+            if (pieceCanGo(square, focusSquare, pinCheck, br)) whoCanGo |= Bitboard.bit(square);
         }
 
         // now check for Knights; if any of our knights can jump to the focusSquare
-        ArrayList<String> possibleKnight = GeometryEngineer.possibleKnightTo(focusSquare, whichArmy, br);
-        for (String square : possibleKnight) {
+        long possibleKnight = GeometryEngineer.possibleKnightTo(focusSquare, whichArmy, br);
+        for (long bb = possibleKnight; bb != 0; bb &= bb - 1) {
             // if the knight can go regarding pin, then add it
-            if (pieceCanGo(square, focusSquare, true, br)) whoCanGo.add(square);
+            int square = Bitboard.first(bb);
+            if (pieceCanGo(square, focusSquare, true, br)) whoCanGo |= Bitboard.bit(square);
         }
 
         return whoCanGo;
@@ -186,26 +123,27 @@ public abstract class Arbiter {
 
     /**
      * For a square of a piece on the specified BR, this method can calculate the list of
-     * squares that the piece can go to with pin check imposed on it. If the piece is pinned
-     * then no squares will be available for the piece.
+     * squares that the piece can go to by all chess rules, including en-passant & castle, as
+     * listed by the {@link MoveGenerator}. If the piece is pinned then no squares will be
+     * available for the piece.
      * <p>
      * This method comes in very handy where on the chess GUI application, if user clicks on
      * a piece and the possible movements of the piece need to be showed.
      */
     public static ArrayList<String> possibleSquareFor(String pieceSquare, BoardRegistry br) {
 
-        Piece piece = br.piece(pieceSquare);
-        if (piece == null) return null;
+        int from = Square.of(pieceSquare);
+        if (br.piece(from) == null) return null;
 
-        ArrayList<String> validSquareList = GeometryEngineer.validSquare(piece.type, piece.color, pieceSquare, true, br);
+        // the four promotion moves of a pawn go to the same square, so collect them as bits
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int count = MoveGenerator.generateFor(from, moves, br);
 
-        ArrayList<String> possibleMoveList = new ArrayList<>();
-        for (String square : validSquareList) {
-            if (pieceCanGo(pieceSquare, square, true, br))
-                possibleMoveList.add(square);
-        }
+        long possibleMoves = Bitboard.EMPTY;
+        for (int i = 0; i < count; i++)
+            possibleMoves |= Bitboard.bit(Move.to(moves[i]));
 
-        return possibleMoveList;
+        return Bitboard.toSquareList(possibleMoves);
     }
 
     /**
@@ -217,15 +155,16 @@ public abstract class Arbiter {
     public static Piece getPiece(MoveMeta moveMeta, BoardRegistry br) {
         ArrayList<Piece> candidatePieceList = getCandidatePieceList(moveMeta, br);
 
+        int destSquare = Square.of(moveMeta.destSquare);
+        if (destSquare == Square.NONE) return null;
+
         // search and see whether any of candidate pieces can match the passed-in move meta
         for (Piece piece : candidatePieceList) {
-            ArrayList<String> validMoves = GeometryEngineer.validSquare(piece.type, piece.color, piece.currentSquare(), true, br);
-            for (String validMove : validMoves) {
-                if (validMove == null) continue;
-                if (validMove.equals(moveMeta.destSquare)) {
-                    boolean canGoWithoutPinned = pieceCanGo(piece.currentSquare(), moveMeta.destSquare, true, br);
-                    if (canGoWithoutPinned) return piece;
-                }
+            int from = Square.of(piece.currentSquare());
+            long validMoves = GeometryEngineer.validSquare(piece.type, piece.color, from, true, br);
+            if (Bitboard.has(validMoves, destSquare)) {
+                boolean canGoWithoutPinned = pieceCanGo(from, destSquare, true, br);
+                if (canGoWithoutPinned) return piece;
             }
         }
         return null;
@@ -245,7 +184,7 @@ public abstract class Arbiter {
 
         // get all the pawns on a specified file, because there can be 2 pawns named 'e' for instance
         if (moveMeta.type == Piece.PAWN) {
-            candidatePieceList = br.pieceByFile(moveMeta.normalizedMove.charAt(0), moveMeta.type, moveMeta.color);
+            candidatePieceList = br.pieceByFile(moveMeta.move.charAt(0), moveMeta.type, moveMeta.color);
             return candidatePieceList;
         }
 
@@ -0,0 +1,66 @@
+package tanzi.algorithm;
+
+import tanzi.model.Bitboard;
+import tanzi.model.Piece;
+import tanzi.model.Square;
+
+/**
+ * Knights, kings and pawns always attack the same squares from a square no matter where other
+ * pieces are on the board. So their attacks are calculated once for each of 64 squares when the
+ * class is loaded and kept as bitboards. Finding the squares a knight attacks is then just an
+ * array read instead of calculating eight squares by chess geometry each time.
+ * <p>
+ * Pawn attacks are only the diagonal capture squares of the pawn; pawn pushes depend on the
+ * occupancy of the board and are calculated by the GeometryEngineer.
+ */
+
+public abstract class AttackTable {
+
+    private static final long[] KNIGHT = new long[64];
+    private static final long[] KING = new long[64];
+    private static final long[][] PAWN = new long[2][64];
+
+    // file & rank steps of the eight knight jumps
+    private static final int[] KNIGHT_FILE_STEP = {-1, -2, 1, 2, -1, -2, 1, 2};
+    private static final int[] KNIGHT_RANK_STEP = {2, 1, 2, 1, -2, -1, -2, -1};
+
+    static {
+        for (int square = 0; square < 64; square++) {
+
+            for (int i = 0; i < 8; i++) {
+                KNIGHT[square] |= bitAt(square, KNIGHT_FILE_STEP[i], KNIGHT_RANK_STEP[i]);
+
+                int neighbour = Square.step(square, i);
+                if (neighbour != Square.NONE) KING[square] |= Bitboard.bit(neighbour);
+            }
+
+            PAWN[Piece.COLOR_WHITE][square] = bitAt(square, -1, 1) | bitAt(square, 1, 1);
+            PAWN[Piece.COLOR_BLACK][square] = bitAt(square, -1, -1) | bitAt(square, 1, -1);
+        }
+    }
+
+    private AttackTable() {
+
+    }
+
+    private static long bitAt(int square, int fileStep, int rankStep) {
+        int destSquare = Square.at(square, fileStep, rankStep);
+        return destSquare == Square.NONE ? Bitboard.EMPTY : Bitboard.bit(destSquare);
+    }
+
+    // the squares a knight on the square can jump to
+    public static long knight(int square) {
+        return KNIGHT[square];
+    }
+
+    // the squares around the square, which are also the squares a king can step to
+    public static long king(int square) {
+        return KING[square];
+    }
+
+    // the diagonal squares a pawn of the color on the square can capture on
+    public static long pawn(int color, int square) {
+        return PAWN[color][square];
+    }
+
+}
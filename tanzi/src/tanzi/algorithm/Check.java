@@ -1,9 +1,10 @@
 package tanzi.algorithm;
 
+import tanzi.model.Bitboard;
 import tanzi.model.EnPasser;
 import tanzi.model.Piece;
+import tanzi.model.Square;
 import tanzi.staff.BoardRegistry;
-import tanzi.staff.BufferedBR;
 
 import java.util.ArrayList;
 
@@ -16,14 +17,14 @@ public abstract class Check {
      * <p>
      * here the color is of the army who played the move.
      */
-    public static boolean didICheck(int color, BufferedBR boardRegistry) {
-        String oppositeKingSquare = boardRegistry.getEnemyKingSquare(color);
+    public static boolean didICheck(int color, BoardRegistry boardRegistry) {
+        int oppositeKingSquare = Square.of(boardRegistry.getEnemyKingSquare(color));
 
-        ArrayList<String> attacker = Arbiter.whoCanGo(oppositeKingSquare, color, false, boardRegistry);
-        if (attacker.size() > 0) return true;
+        long attacker = Arbiter.whoCanGo(oppositeKingSquare, color, false, boardRegistry);
+        if (attacker != Bitboard.EMPTY) return true;
 
-        ArrayList<String> knightOnOppositeKing = GeometryEngineer.possibleKnightTo(oppositeKingSquare, color, boardRegistry);
-        return knightOnOppositeKing.size() > 0;
+        long knightOnOppositeKing = GeometryEngineer.possibleKnightTo(oppositeKingSquare, color, boardRegistry);
+        return knightOnOppositeKing != Bitboard.EMPTY;
     }
 
     /*
@@ -44,7 +45,7 @@ public abstract class Check {
      * 6. if for any of king's squares, king can go or make move that means the king is in check
      *    but not checkmated. return negative value; REMEMBER to revert changes to the BR.
      * */
-    public static boolean isMate(String attackerSquare, BufferedBR br) {
+    public static boolean isMate(String attackerSquare, BoardRegistry br) {
 
         Piece attackerPiece = br.piece(attackerSquare);
 
@@ -54,7 +55,8 @@ public abstract class Check {
         String inCheckKingSquare = br.getEnemyKingSquare(attackerColor);
 
         // checking king's valid squares according to the boardRegistry after the opponent move
-        ArrayList<String> inCheckValidKingSquareList = GeometryEngineer.validSquare(Piece.KING, inCheckColor, inCheckKingSquare, true, br);
+        int inCheckKing = Square.of(inCheckKingSquare);
+        long inCheckValidKingSquares = GeometryEngineer.validSquare(Piece.KING, inCheckColor, inCheckKing, true, br);
 
 
         // here safeFound means whether we have actually found the king safe by the following
@@ -62,8 +64,8 @@ public abstract class Check {
         // type of ways then we don't check any further by setting furtherChecks to false
 
         // check for any of valid squares the checking king can go or make move
-        for (String square : inCheckValidKingSquareList) {
-            boolean canGo = Arbiter.pieceCanGo(inCheckKingSquare, square, false, br);
+        for (long bb = inCheckValidKingSquares; bb != 0; bb &= bb - 1) {
+            boolean canGo = Arbiter.pieceCanGo(inCheckKing, Bitboard.first(bb), false, br);
             if (canGo) return false;
         }
 
@@ -112,13 +114,15 @@ public abstract class Check {
         // let's see whether the enemy can be taken by en-passant rule if there is any
         EnPasser enPasser = br.restoreEnPasser(inCheckColor);
         if (attackerPiece.isPawn() && enPasser != null && enPasser.nowSquare.equals(attackerSquare)) {
-            BufferedBR bufferedBR = br.copy();
+            // first move the en-passer from the now square & put it on the immediate square
+            int mark = br.makeMove(Square.of(enPasser.nowSquare), Square.of(enPasser.intermediateSquare), -1);
 
-            // first delete the en-passer from the now square & put it on the immediate square
-            bufferedBR.movePiece(enPasser.nowSquare, enPasser.intermediateSquare);
-
-            boolean enPasserSafe = Arbiter.amISafe(attackerColor, enPasser.intermediateSquare, bufferedBR);
-            bufferedBR.recycle();
+            boolean enPasserSafe;
+            try {
+                enPasserSafe = Arbiter.amISafe(attackerColor, enPasser.intermediateSquare, br);
+            } finally {
+                br.unmakeMove(mark);
+            }
 
             if (!enPasserSafe) return false;
         }
@@ -136,29 +140,26 @@ public abstract class Check {
      */
     public static String mateStatusAfterPromo(Piece srcPiece, String destSquare, int promotionType, BoardRegistry br) {
 
-        BufferedBR bufferedBR = br.copy();
-
-        // get the moving piece from the buffered BR and make the move to the dest square
-        Piece piece = bufferedBR.movePiece(srcPiece.currentSquare(), destSquare);
-
-        // set promotion type
-        if (promotionType != -1) piece.type = promotionType;
+        // make the move of the moving piece to the dest square in place with the promotion if any
+        int color = srcPiece.color;
+        int mark = br.makeMove(Square.of(srcPiece.currentSquare()), Square.of(destSquare), promotionType);
 
         // check for check and checkmate status
-        String annotation = mateStatus(piece.color, destSquare, bufferedBR);
-        bufferedBR.recycle();
-        return annotation;
+        try {
+            return mateStatus(color, destSquare, br);
+        } finally {
+            br.unmakeMove(mark);
+        }
     }
 
     /**
      * It returns "#" or "+" based on the output of Check.didIGiveCheck() and Checkmate.isMate() methods for any move
      * made by an army towards the enemy king.
      * <p>
-     * Unlike all other algorithms, it doesn't use BoardRegistry. It uses BufferBR because it has to be through the
-     * various algorithms which may alter different pieces on the BR in order to calculate the mate status thus it
-     * makes it safe for the main in-memory game's BR.
+     * The various algorithms it goes through make moves on the BR in place in order to calculate the mate status,
+     * but each of them unmakes its moves, so the BR is the same as before afterwards.
      */
-    public static String mateStatus(int checkerColor, String square, BufferedBR bbr) {
+    public static String mateStatus(int checkerColor, String square, BoardRegistry bbr) {
         // now check whether I have given check to enemy
         boolean checkMate = false;
 
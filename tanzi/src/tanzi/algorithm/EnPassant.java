@@ -24,11 +24,16 @@ public abstract class EnPassant {
      * */
     public static String[] getEnPasserTaker(String srcSquare, String destSquare, BoardRegistry br) {
 
+        return getEnPasserTaker(Square.of(srcSquare), Square.of(destSquare), br);
+    }
+
+    public static String[] getEnPasserTaker(int srcSquare, int destSquare, BoardRegistry br) {
+
         // define the passing piece and its properties
         Piece piece = br.piece(srcSquare);
         int color = piece.color;
         int oppositeColor = Piece.getOppositeColor(color);
-        int rank = piece.getRank();
+        int rank = Square.rankAsInt(srcSquare);
 
         // make sure it is a pawn
         if (!piece.isPawn()) return null;
@@ -43,16 +48,16 @@ public abstract class EnPassant {
             return null;
 
         // check whether the passing pawn is moving two square by the move from home
-        int destRank = Character.getNumericValue(destSquare.charAt(1));
+        int destRank = Square.rankAsInt(destSquare);
         if (Math.abs(destRank - rank) != 2) return null;
 
         // calculate two possible enemy side pawns of the passing pawn
-        String diagonalSquare1 = GeometryEngineer.getSquareAt(srcSquare, 1, step);
-        String diagonalSquare2 = GeometryEngineer.getSquareAt(srcSquare, -1, step);
+        int sideSquare1 = Square.at(srcSquare, 1, step);
+        int sideSquare2 = Square.at(srcSquare, -1, step);
 
         // check whether those side pieces are pawns of enemy and eligible to capture the passer
-        diagonalSquare1 = checkForSidePawn(diagonalSquare1, oppositeColor, br);
-        diagonalSquare2 = checkForSidePawn(diagonalSquare2, oppositeColor, br);
+        String diagonalSquare1 = checkForSidePawn(sideSquare1, oppositeColor, br);
+        String diagonalSquare2 = checkForSidePawn(sideSquare2, oppositeColor, br);
 
         // add side pawns who can into the list
         ArrayList<String> squares = new ArrayList<>();
@@ -85,9 +90,8 @@ public abstract class EnPassant {
         enPasser.nowSquare = destSquare;
         enPasser.takerColor = Piece.getOppositeColor(br.piece(srcSquare).color);
 
-        // calculate the intermediate square
-        int min = Math.min(Character.getNumericValue(srcSquare.charAt(1)), Character.getNumericValue(destSquare.charAt(1)));
-        enPasser.intermediateSquare = srcSquare.charAt(0) + "" + (min + 1);
+        // calculate the intermediate square which is right in the middle of the two squares on the file
+        enPasser.intermediateSquare = Square.name((Square.of(srcSquare) + Square.of(destSquare)) >>> 1);
 
         return enPasser;
     }
@@ -112,25 +116,29 @@ public abstract class EnPassant {
         return false;
     }
 
+    public static boolean amIEnpasserTaker(int mySquare, EnPasser enPasser) {
+        if (enPasser == null) return false;
+        for (String square : enPasser.taker)
+            if (Square.of(square) == mySquare) return true;
+        return false;
+    }
+
     // for a destination square of pawn and en-passer object, this method can tell if
     // the pawn is really going to take the en-passer or not.
     public static boolean amITakingEnPasser(String myDestSquare, EnPasser enPasser) {
-        String enPasserFile = Square.fileAsStr(enPasser.intermediateSquare);
-        String myFile = Square.fileAsStr(myDestSquare);
-        return myFile.equals(enPasserFile);
+        return Square.fileAsChar(myDestSquare) == Square.fileAsChar(enPasser.intermediateSquare);
     }
 
     /*
      * for a square, this method validates whether the piece on the square should be able to capture
      * the passing pawn.
      * */
-    private static String checkForSidePawn(String square, int oppositeColor, BoardRegistry boardRegistry) {
-        if (square == null) return null;
+    private static String checkForSidePawn(int square, int oppositeColor, BoardRegistry boardRegistry) {
         Piece sidePiece = boardRegistry.piece(square);
         if (sidePiece == null) return null;
         if (!sidePiece.isPawn()) return null;
         if (sidePiece.color != oppositeColor) return null;
-        return square;
+        return Square.name(square);
     }
 
 }
@@ -0,0 +1,228 @@
+package tanzi.algorithm;
+
+import tanzi.model.Bitboard;
+import tanzi.model.EnPasser;
+import tanzi.model.Piece;
+import tanzi.model.Square;
+import tanzi.staff.BoardRegistry;
+
+import java.util.ArrayList;
+
+/**
+ * FEN (Forsyth-Edwards Notation) writes a position in a single line, such as the start position
+ * below. It has six fields separated by spaces: the pieces on each rank from the 8th down to the 1st,
+ * the army to move, the castle rights, the en-passant square, the half-move clock & the full move
+ * number.
+ * <p>
+ * This class sets a BR up for a FEN and writes the FEN of a BR, so that a game can start from any
+ * position instead of replaying all the moves that led to it.
+ * <p>
+ * The BR knows the castle rights by the unmoved kings & rooks on their home squares, so a king or a
+ * rook is left unmoved only if the FEN gives it the castle right. Also, the BR only keeps an en-passer
+ * if there is a pawn to take it, so the en-passant square of a FEN is dropped otherwise.
+ */
+
+public abstract class FEN {
+
+    public static final String START = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    private static final String PIECES = "KQRBNPkqrbnp";
+
+    private FEN() {
+
+    }
+
+    /**
+     * Clears the BR and sets it up with the position of the FEN. The fields after the pieces can be
+     * left out, in which case white is to move with no castle right & no en-passant square, and the
+     * move counters are 0 & 1.
+     * <p>
+     * It throws IllegalArgumentException for an invalid FEN, in which case the BR is left as it is.
+     */
+    public static void read(String fen, BoardRegistry br) {
+        if (fen == null || fen.isBlank()) throw new IllegalArgumentException("FEN can't be null or empty.");
+
+        String[] fields = fen.trim().split("\\s+");
+        if (fields.length > 6) throw new IllegalArgumentException("Invalid FEN " + fen);
+
+        Piece[] pieces = pieces(fields[0], fen);
+
+        int sideToMove = sideToMove(fen);
+
+        String castle = fields.length > 2 ? fields[2] : "-";
+        if (!castle.matches("-|K?Q?k?q?") || castle.isEmpty())
+            throw new IllegalArgumentException("Invalid castle rights in FEN " + fen);
+
+        int enPassantSquare = Square.NONE;
+        if (fields.length > 3 && !fields[3].equals("-")) {
+            enPassantSquare = Square.of(fields[3]);
+            int rank = sideToMove == Piece.COLOR_WHITE ? 6 : 3;
+            if (enPassantSquare == Square.NONE || Square.rankAsInt(enPassantSquare) != rank)
+                throw new IllegalArgumentException("Invalid en-passant square in FEN " + fen);
+        }
+
+        int halfMoveClock = fields.length > 4 ? counter(fields[4], 0, fen) : 0;
+        int fullMoveNumber = fields.length > 5 ? counter(fields[5], 1, fen) : 1;
+
+        br.__clear();
+        for (Piece piece : pieces) {
+            if (piece == null) continue;
+            if (!unmoved(piece, castle)) piece.setCurrentSquare(piece.currentSquare());
+
+            br.add(piece);
+            if (piece.isKing()) br.updateOSSquare(piece.color, piece.currentSquare());
+        }
+
+        br.setSideToMove(sideToMove);
+        if (enPassantSquare != Square.NONE) br.storeEnPasser(enPasser(enPassantSquare, sideToMove, br));
+        br.setMoveCounters(halfMoveClock, fullMoveNumber);
+    }
+
+    /**
+     * Returns the army to move in the FEN without reading the rest of it, white if the field is
+     * left out. It throws IllegalArgumentException for an invalid field.
+     */
+    public static int sideToMove(String fen) {
+        if (fen == null || fen.isBlank()) throw new IllegalArgumentException("FEN can't be null or empty.");
+
+        String[] fields = fen.trim().split("\\s+");
+        if (fields.length < 2 || fields[1].equals("w")) return Piece.COLOR_WHITE;
+        if (fields[1].equals("b")) return Piece.COLOR_BLACK;
+        throw new IllegalArgumentException("Invalid army to move in FEN " + fen);
+    }
+
+    /**
+     * Writes the FEN of the position in the BR. The en-passant square is only written if the army to
+     * move can take the en-passer.
+     */
+    public static String write(BoardRegistry br) {
+        StringBuilder builder = new StringBuilder(90);
+
+        for (int rank = 8; rank >= 1; rank--) {
+            int empty = 0;
+            for (int file = 0; file < 8; file++) {
+                Piece piece = br.piece(Square.of(file, rank));
+                if (piece == null) {
+                    empty++;
+                    continue;
+                }
+
+                if (empty > 0) builder.append(empty);
+                empty = 0;
+
+                char name = Piece.getShortName(piece.type, 'P');
+                builder.append(piece.isWhite() ? name : Character.toLowerCase(name));
+            }
+            if (empty > 0) builder.append(empty);
+            if (rank > 1) builder.append('/');
+        }
+
+        builder.append(br.sideToMove() == Piece.COLOR_WHITE ? " w " : " b ");
+
+        int rights = br.castleRights();
+        if ((rights & BoardRegistry.CASTLE_WHITE_KING_SIDE) != 0) builder.append('K');
+        if ((rights & BoardRegistry.CASTLE_WHITE_QUEEN_SIDE) != 0) builder.append('Q');
+        if ((rights & BoardRegistry.CASTLE_BLACK_KING_SIDE) != 0) builder.append('k');
+        if ((rights & BoardRegistry.CASTLE_BLACK_QUEEN_SIDE) != 0) builder.append('q');
+        if (rights == 0) builder.append('-');
+
+        EnPasser enPasser = br.restoreEnPasser(br.sideToMove());
+        builder.append(' ').append(enPasser == null ? "-" : enPasser.intermediateSquare);
+
+        builder.append(' ').append(br.halfMoveClock());
+        builder.append(' ').append(br.fullMoveNumber());
+
+        return builder.toString();
+    }
+
+    // the pieces of the placement field by their int squares
+    private static Piece[] pieces(String placement, String fen) {
+        String[] ranks = placement.split("/");
+        if (ranks.length != 8) throw new IllegalArgumentException("FEN must have 8 ranks " + fen);
+
+        Piece[] pieces = new Piece[64];
+        int[] kings = new int[2];
+
+        for (int r = 0; r < 8; r++) {
+            int rank = 8 - r, file = 0;
+            for (char c : ranks[r].toCharArray()) {
+                if (c >= '1' && c <= '8') {
+                    file += c - '0';
+                    continue;
+                }
+
+                if (PIECES.indexOf(c) == -1 || file > 7)
+                    throw new IllegalArgumentException("Invalid rank " + ranks[r] + " in FEN " + fen);
+
+                int color = Character.isUpperCase(c) ? Piece.COLOR_WHITE : Piece.COLOR_BLACK;
+                int type = Piece.getType(Character.toUpperCase(c));
+                if (type == Piece.KING) kings[color]++;
+
+                // a pawn can never stand on the first or the last rank
+                if (type == Piece.PAWN && (rank == 1 || rank == 8))
+                    throw new IllegalArgumentException("Pawn on rank " + rank + " in FEN " + fen);
+
+                int square = Square.of(file++, rank);
+                String name = Square.name(square);
+                pieces[square] = new Piece(type, color, name, name);
+            }
+
+            if (file != 8) throw new IllegalArgumentException("Invalid rank " + ranks[r] + " in FEN " + fen);
+        }
+
+        if (kings[Piece.COLOR_WHITE] != 1 || kings[Piece.COLOR_BLACK] != 1)
+            throw new IllegalArgumentException("Each army must have one king in FEN " + fen);
+
+        return pieces;
+    }
+
+    private static int counter(String field, int min, String fen) {
+        try {
+            int value = Integer.parseInt(field);
+            if (value >= min) return value;
+        } catch (NumberFormatException ignored) {
+
+        }
+        throw new IllegalArgumentException("Invalid move counter " + field + " in FEN " + fen);
+    }
+
+    // whether the king or the rook still has the castle right the FEN gives it
+    private static boolean unmoved(Piece piece, String castle) {
+        String square = piece.currentSquare();
+        if (piece.isKing())
+            return square.equals(piece.isWhite() ? "e1" : "e8") && castle.matches(piece.isWhite() ? ".*[KQ].*" : ".*[kq].*");
+
+        if (!piece.isRook()) return true;
+        return switch (square) {
+            case "h1" -> piece.isWhite() && castle.contains("K");
+            case "a1" -> piece.isWhite() && castle.contains("Q");
+            case "h8" -> piece.isBlack() && castle.contains("k");
+            case "a8" -> piece.isBlack() && castle.contains("q");
+            default -> false;
+        };
+    }
+
+    // the en-passer the army to move can take on the square, null if no pawn can take it
+    private static EnPasser enPasser(int intermediateSquare, int takerColor, BoardRegistry br) {
+        int step = takerColor == Piece.COLOR_WHITE ? 8 : -8;
+        int nowSquare = intermediateSquare - step;
+
+        Piece passer = br.piece(nowSquare);
+        if (passer == null || !passer.isPawn() || passer.color == takerColor) return null;
+
+        long takers = AttackTable.pawn(Piece.getOppositeColor(takerColor), intermediateSquare)
+                & br.bitboard(Piece.PAWN, takerColor);
+        if (takers == Bitboard.EMPTY) return null;
+
+        ArrayList<String> taker = Bitboard.toSquareList(takers);
+
+        EnPasser enPasser = new EnPasser();
+        enPasser.takerColor = takerColor;
+        enPasser.beforeSquare = Square.name(intermediateSquare + step);
+        enPasser.intermediateSquare = Square.name(intermediateSquare);
+        enPasser.nowSquare = Square.name(nowSquare);
+        enPasser.taker = taker.toArray(new String[0]);
+        return enPasser;
+    }
+
+}
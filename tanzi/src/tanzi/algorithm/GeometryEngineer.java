@@ -1,5 +1,6 @@
 package tanzi.algorithm;
 
+import tanzi.model.Bitboard;
 import tanzi.model.Piece;
 import tanzi.model.Square;
 import tanzi.staff.BoardRegistry;
@@ -10,6 +11,10 @@ import java.util.ArrayList;
  * Each piece movements by chess rules are calculated by GeometryEngineer. This class knows
  * how a piece moves given the square the piece is on. No chess rules validation are performed
  * on the movements calculated by GeometryEngineer.
+ * <p>
+ * The calculations are done on the int squares of the {@link Square} class and the squares found
+ * are returned as bitboards. The methods taking & returning square names are kept for the callers
+ * at the SAN/GUI boundary and they just translate the results of the int versions.
  */
 
 public abstract class GeometryEngineer {
@@ -32,6 +37,14 @@ public abstract class GeometryEngineer {
      * calculation.
      * */
     public static ArrayList<String> validSquare(int type, int color, String currentSquare, boolean armyCheck, BoardRegistry br) {
+        return Bitboard.toSquareList(validSquare(type, color, Square.of(currentSquare), armyCheck, br));
+    }
+
+    /*
+     * same as above but for an int square; the valid squares are returned as a bitboard.
+     * */
+    public static long validSquare(int type, int color, int currentSquare, boolean armyCheck, BoardRegistry br) {
+        if (currentSquare == Square.NONE) return Bitboard.EMPTY;
         return switch (type) {
             case Piece.KING -> kingSquare(currentSquare, color, armyCheck, br);
             case Piece.QUEEN -> queenSquare(currentSquare, color, armyCheck, br);
@@ -47,230 +60,61 @@ public abstract class GeometryEngineer {
      * it supports the own army check to get more valid squares for the current board registry.
      * */
 
-    private static ArrayList<String> rookSquare(String from, int color, boolean ownArmyCheck, BoardRegistry br) {
-
-        ArrayList<String> squareList = new ArrayList<>();
-
-        int counter = 1;
-
-        boolean topBlock = false;
-        boolean bottomBlock = false;
-        boolean leftBlock = false;
-        boolean rightBlock = false;
-
-        boolean running = true;
-        while (running) {
-
-            String square;
-
-            // top file
-            if (!topBlock) {
-                square = getSquareAt(from, 0, counter);
-                topBlock = SquareFilter.filterForIterativeSquareFinding(color, square, ownArmyCheck, squareList, br);
-            }
-
-            // bottom file
-            if (!bottomBlock) {
-                square = getSquareAt(from, 0, -counter);
-                bottomBlock = SquareFilter.filterForIterativeSquareFinding(color, square, ownArmyCheck, squareList, br);
-            }
-
-            // left file
-            if (!leftBlock) {
-                square = getSquareAt(from, -counter, 0);
-                leftBlock = SquareFilter.filterForIterativeSquareFinding(color, square, ownArmyCheck, squareList, br);
-            }
-
-            // right file
-            if (!rightBlock) {
-                square = getSquareAt(from, counter, 0);
-                rightBlock = SquareFilter.filterForIterativeSquareFinding(color, square, ownArmyCheck, squareList, br);
-            }
-
-            counter++;
-
-            if (topBlock && bottomBlock && leftBlock && rightBlock) running = false;
-        }
+    /*
+     * sliding pieces are blocked by any piece along the directions. without own army check, they
+     * slide through own pieces and are only blocked by enemy pieces.
+     * */
 
-        return squareList;
+    private static long rookSquare(int from, int color, boolean ownArmyCheck, BoardRegistry br) {
+        if (!ownArmyCheck) return SlidingAttack.rook(from, br.armyBitboard(Piece.getOppositeColor(color)));
+        return SlidingAttack.rook(from, br.occupancy()) & ~br.armyBitboard(color);
     }
 
-    private static ArrayList<String> bishopSquare(String from, int color, boolean ownArmyCheck, BoardRegistry br) {
-
-        ArrayList<String> squareList = new ArrayList<>();
-
-        // flags that identify whether a diagonal direction is off for the bishop to move along
-        boolean topLeftBlock = false;
-        boolean topRightBlock = false;
-        boolean bottomLeftBlock = false;
-        boolean bottomRightBlock = false;
-
-        int topStep = 1;
-        int bottomStep = 1;
-
-        boolean running = true;
-        while (running) {
-
-            String diagonal;
-
-            // top-left diagonal
-            if (!topLeftBlock) {
-                diagonal = getSquareAt(from, -topStep, topStep);
-                topLeftBlock = SquareFilter.filterForIterativeSquareFinding(color, diagonal, ownArmyCheck, squareList, br);
-            }
-
-            // top-right diagonal
-            if (!topRightBlock) {
-                diagonal = getSquareAt(from, topStep, topStep);
-                topRightBlock = SquareFilter.filterForIterativeSquareFinding(color, diagonal, ownArmyCheck, squareList, br);
-            }
-
-            // bottom-left
-            if (!bottomLeftBlock) {
-                diagonal = getSquareAt(from, -bottomStep, -bottomStep);
-                bottomLeftBlock = SquareFilter.filterForIterativeSquareFinding(color, diagonal, ownArmyCheck, squareList, br);
-            }
-
-            // bottom-right
-            if (!bottomRightBlock) {
-                diagonal = getSquareAt(from, bottomStep, -bottomStep);
-                bottomRightBlock = SquareFilter.filterForIterativeSquareFinding(color, diagonal, ownArmyCheck, squareList, br);
-            }
-
-            topStep++;
-            bottomStep++;
-
-            if (topLeftBlock && topRightBlock && bottomLeftBlock && bottomRightBlock)
-                running = false;
-        }
-        return squareList;
+    private static long bishopSquare(int from, int color, boolean ownArmyCheck, BoardRegistry br) {
+        if (!ownArmyCheck) return SlidingAttack.bishop(from, br.armyBitboard(Piece.getOppositeColor(color)));
+        return SlidingAttack.bishop(from, br.occupancy()) & ~br.armyBitboard(color);
     }
 
-    private static ArrayList<String> queenSquare(String from, int color, boolean ownArmyCheck, BoardRegistry br) {
-        ArrayList<String> validSquareList = rookSquare(from, color, ownArmyCheck, br);
-        validSquareList.addAll(bishopSquare(from, color, ownArmyCheck, br));
-        return validSquareList;
+    private static long queenSquare(int from, int color, boolean ownArmyCheck, BoardRegistry br) {
+        return rookSquare(from, color, ownArmyCheck, br) | bishopSquare(from, color, ownArmyCheck, br);
     }
 
-    private static ArrayList<String> knightSquare(String from, int color, boolean ownArmyCheck, BoardRegistry br) {
-
-        ArrayList<String> squareList = new ArrayList<>();
-
-        String destSquare;
-
-        // top-left
-        destSquare = getSquareAt(from, -1, 2);
-        SquareFilter.filterSquare(color, destSquare, ownArmyCheck, squareList, br);
-
-        // left-top-diagonal
-        destSquare = getSquareAt(from, -2, 1);
-        SquareFilter.filterSquare(color, destSquare, ownArmyCheck, squareList, br);
-
-        // top-right
-        destSquare = getSquareAt(from, 1, 2);
-        SquareFilter.filterSquare(color, destSquare, ownArmyCheck, squareList, br);
-
-        // right-top-diagonal
-        destSquare = getSquareAt(from, 2, 1);
-        SquareFilter.filterSquare(color, destSquare, ownArmyCheck, squareList, br);
-
-        // bottom-left
-        destSquare = getSquareAt(from, -1, -2);
-        SquareFilter.filterSquare(color, destSquare, ownArmyCheck, squareList, br);
-
-        // left-bottom-diagonal
-        destSquare = getSquareAt(from, -2, -1);
-        SquareFilter.filterSquare(color, destSquare, ownArmyCheck, squareList, br);
-
-        // bottom-right
-        destSquare = getSquareAt(from, 1, -2);
-        SquareFilter.filterSquare(color, destSquare, ownArmyCheck, squareList, br);
-
-        // right-bottom-diagonal
-        destSquare = getSquareAt(from, 2, -1);
-        SquareFilter.filterSquare(color, destSquare, ownArmyCheck, squareList, br);
-
-        return squareList;
+    private static long knightSquare(int from, int color, boolean ownArmyCheck, BoardRegistry br) {
+        return SquareFilter.filterSquares(color, AttackTable.knight(from), ownArmyCheck, br);
     }
 
-    private static ArrayList<String> pawnSquare(String from, int color, BoardRegistry br) {
+    private static long pawnSquare(int from, int color, BoardRegistry br) {
 
-        ArrayList<String> validSquareList = new ArrayList<>();
+        long squares = Bitboard.EMPTY;
 
         int rankStep = (color == Piece.COLOR_WHITE) ? 1 : -1;
 
         // first learn if the top square is available for the pawn
-        String topSquare1 = getSquareAt(from, 0, rankStep);
+        int topSquare1 = Square.at(from, 0, rankStep);
         boolean anyPieceOnTop = br.anyPieceOn(topSquare1);
-        if (!anyPieceOnTop) validSquareList.add(topSquare1);
+        if (!anyPieceOnTop && topSquare1 != Square.NONE) squares |= Bitboard.bit(topSquare1);
 
-        // check to see whether any enemy piece is on top-right or top-left square, where the pawn can go
-        String topLeftSquare = getSquareAt(from, -1, rankStep);
-        String topRightSquare = getSquareAt(from, 1, rankStep);
-
-        boolean leftDiagonalAvail = !br.killingOwnArmy(topLeftSquare, color) && br.anyPieceOn(topLeftSquare);
-        boolean rightDiagonalAvail = !br.killingOwnArmy(topRightSquare, color) && br.anyPieceOn(topRightSquare);
-
-        if (leftDiagonalAvail) validSquareList.add(topLeftSquare);
-        if (rightDiagonalAvail) validSquareList.add(topRightSquare);
+        // any enemy piece on top-right or top-left square, where the pawn can go
+        squares |= AttackTable.pawn(color, from) & br.armyBitboard(Piece.getOppositeColor(color));
 
         // figure out whether the pawn is at home for home pawn move
         if (!anyPieceOnTop) {
-            int pawnRank = Character.getNumericValue(from.charAt(1));
+            int pawnRank = Square.rankAsInt(from);
             boolean atHome = pawnRank == 2 || pawnRank == 7;
             if (atHome) {
                 rankStep = (color == Piece.COLOR_WHITE) ? 2 : -2;
-                String topSquare2 = getSquareAt(from, 0, rankStep);
+                int topSquare2 = Square.at(from, 0, rankStep);
                 // make sure that no piece is on the topSquare2
-                boolean topSquare2Avail = !br.anyPieceOn(topSquare2);
-                if (topSquare2Avail) validSquareList.add(topSquare2);
+                if (topSquare2 != Square.NONE && !br.anyPieceOn(topSquare2)) squares |= Bitboard.bit(topSquare2);
             }
         }
 
-        return validSquareList;
+        return squares;
     }
 
-    private static ArrayList<String> kingSquare(String from, int color, boolean ownArmyCheck, BoardRegistry br) {
-
+    private static long kingSquare(int from, int color, boolean ownArmyCheck, BoardRegistry br) {
         // a king can go up to 8 squares from current square
-
-        ArrayList<String> validSquareList = new ArrayList<>();
-        String destSquare;
-
-        // top
-        destSquare = getSquareAt(from, 0, 1);
-        SquareFilter.filterSquare(color, destSquare, ownArmyCheck, validSquareList, br);
-
-        // top-left
-        destSquare = getSquareAt(from, -1, 1);
-        SquareFilter.filterSquare(color, destSquare, ownArmyCheck, validSquareList, br);
-
-        // top-right
-        destSquare = getSquareAt(from, 1, 1);
-        SquareFilter.filterSquare(color, destSquare, ownArmyCheck, validSquareList, br);
-
-        // left
-        destSquare = getSquareAt(from, -1, 0);
-        SquareFilter.filterSquare(color, destSquare, ownArmyCheck, validSquareList, br);
-
-        // right
-        destSquare = getSquareAt(from, 1, 0);
-        SquareFilter.filterSquare(color, destSquare, ownArmyCheck, validSquareList, br);
-
-        // bottom
-        destSquare = getSquareAt(from, 0, -1);
-        SquareFilter.filterSquare(color, destSquare, ownArmyCheck, validSquareList, br);
-
-        // bottom-left
-        destSquare = getSquareAt(from, -1, -1);
-        SquareFilter.filterSquare(color, destSquare, ownArmyCheck, validSquareList, br);
-
-        // bottom-right
-        destSquare = getSquareAt(from, 1, -1);
-        SquareFilter.filterSquare(color, destSquare, ownArmyCheck, validSquareList, br);
-
-
-        return validSquareList;
+        return SquareFilter.filterSquares(color, AttackTable.king(from), ownArmyCheck, br);
     }
 
     /**
@@ -278,51 +122,12 @@ public abstract class GeometryEngineer {
      * go to the given focus square SIDE-WISE(top, left, bottom, right).
      */
     public static ArrayList<String> possibleSidewaysTo(String focusSquare, int type, int color, BoardRegistry br) {
+        return Bitboard.toSquareList(possibleSidewaysTo(Square.of(focusSquare), type, color, br));
+    }
 
-        ArrayList<String> squareList = new ArrayList<>();
-
-        int counter = 1;
-
-        boolean topBlock = false;
-        boolean bottomBlock = false;
-        boolean leftBlock = false;
-        boolean rightBlock = false;
-
-        boolean running = true;
-        while (running) {
-
-            String square;
-
-            // top file
-            if (!topBlock) {
-                square = getSquareAt(focusSquare, 0, counter);
-                topBlock = SquareFilter.filterPossibleSquareToFocusSquare(type, color, square, squareList, br);
-            }
-
-            // bottom file
-            if (!bottomBlock) {
-                square = getSquareAt(focusSquare, 0, -counter);
-                bottomBlock = SquareFilter.filterPossibleSquareToFocusSquare(type, color, square, squareList, br);
-            }
-
-            // left file
-            if (!leftBlock) {
-                square = getSquareAt(focusSquare, -counter, 0);
-                leftBlock = SquareFilter.filterPossibleSquareToFocusSquare(type, color, square, squareList, br);
-            }
-
-            // right file
-            if (!rightBlock) {
-                square = getSquareAt(focusSquare, counter, 0);
-                rightBlock = SquareFilter.filterPossibleSquareToFocusSquare(type, color, square, squareList, br);
-            }
-
-            counter++;
-
-            if (topBlock && bottomBlock && leftBlock && rightBlock) running = false;
-        }
-
-        return squareList;
+    public static long possibleSidewaysTo(int focusSquare, int type, int color, BoardRegistry br) {
+        // the first piece along each side is the only one that can come
+        return SlidingAttack.rook(focusSquare, br.occupancy()) & br.bitboard(type, color);
     }
 
     /**
@@ -330,54 +135,20 @@ public abstract class GeometryEngineer {
      * go to the given focus square DIAGONALLY(top-left, top-right, bottom-left, bottom-right).
      */
     public static ArrayList<String> possibleDiagonalTo(String focusSquare, int type, int color, BoardRegistry br) {
+        return Bitboard.toSquareList(possibleDiagonalTo(Square.of(focusSquare), type, color, br));
+    }
 
-        ArrayList<String> squareList = new ArrayList<>();
-
-        // flags that identify if a diagonal direction is off for bishops to move along/come from
-        boolean topLeftBlock = false;
-        boolean topRightBlock = false;
-        boolean bottomLeftBlock = false;
-        boolean bottomRightBlock = false;
-
-        int topStep = 1;
-        int bottomStep = 1;
-
-        boolean running = true;
-        while (running) {
-
-            String square;
-
-            // top-left diagonal
-            if (!topLeftBlock) {
-                square = getSquareAt(focusSquare, -topStep, topStep);
-                topLeftBlock = SquareFilter.filterPossibleSquareToFocusSquare(type, color, square, squareList, br);
-            }
-
-            // top-right diagonal
-            if (!topRightBlock) {
-                square = getSquareAt(focusSquare, topStep, topStep);
-                topRightBlock = SquareFilter.filterPossibleSquareToFocusSquare(type, color, square, squareList, br);
-            }
-
-            // bottom-left
-            if (!bottomLeftBlock) {
-                square = getSquareAt(focusSquare, -bottomStep, -bottomStep);
-                bottomLeftBlock = SquareFilter.filterPossibleSquareToFocusSquare(type, color, square, squareList, br);
-            }
-
-            // bottom-right
-            if (!bottomRightBlock) {
-                square = getSquareAt(focusSquare, bottomStep, -bottomStep);
-                bottomRightBlock = SquareFilter.filterPossibleSquareToFocusSquare(type, color, square, squareList, br);
-            }
-
-            topStep++;
-            bottomStep++;
+    public static long possibleDiagonalTo(int focusSquare, int type, int color, BoardRegistry br) {
+        return SlidingAttack.bishop(focusSquare, br.occupancy()) & br.bitboard(type, color);
+    }
 
-            if (topLeftBlock && topRightBlock && bottomLeftBlock && bottomRightBlock)
-                running = false;
-        }
-        return squareList;
+    /**
+     * For a square, this method returns the squares of the first pieces along the eight directions,
+     * both armies included. Only these pieces can reach the square sideways or diagonally, so
+     * algorithms can ask about attacks on the square with these pieces only.
+     */
+    public static long firstPieceAround(int square, BoardRegistry br) {
+        return SlidingAttack.queen(square, br.occupancy()) & br.occupancy();
     }
 
     /**
@@ -389,51 +160,12 @@ public abstract class GeometryEngineer {
      * @param color       the color of the army
      */
     public static ArrayList<String> possibleKnightTo(String focusSquare, int color, BoardRegistry br) {
+        return Bitboard.toSquareList(possibleKnightTo(Square.of(focusSquare), color, br));
+    }
 
-        ArrayList<String> validSquareList = new ArrayList<>();
-        String destSquare;
-
-        // top-left
-        destSquare = getSquareAt(focusSquare, -1, 2);
-        if (destSquare != null)
-            SquareFilter.filterPossibleKnightSquareToFocusSquare(color, destSquare, validSquareList, br);
-
-        // left-top-diagonal
-        destSquare = getSquareAt(focusSquare, -2, 1);
-        if (destSquare != null)
-            SquareFilter.filterPossibleKnightSquareToFocusSquare(color, destSquare, validSquareList, br);
-
-        // top-right
-        destSquare = getSquareAt(focusSquare, 1, 2);
-        if (destSquare != null)
-            SquareFilter.filterPossibleKnightSquareToFocusSquare(color, destSquare, validSquareList, br);
-
-        // right-top-diagonal
-        destSquare = getSquareAt(focusSquare, 2, 1);
-        if (destSquare != null)
-            SquareFilter.filterPossibleKnightSquareToFocusSquare(color, destSquare, validSquareList, br);
-
-        // bottom-left
-        destSquare = getSquareAt(focusSquare, -1, -2);
-        if (destSquare != null)
-            SquareFilter.filterPossibleKnightSquareToFocusSquare(color, destSquare, validSquareList, br);
-
-        // left-bottom-diagonal
-        destSquare = getSquareAt(focusSquare, -2, -1);
-        if (destSquare != null)
-            SquareFilter.filterPossibleKnightSquareToFocusSquare(color, destSquare, validSquareList, br);
-
-        // bottom-right
-        destSquare = getSquareAt(focusSquare, 1, -2);
-        if (destSquare != null)
-            SquareFilter.filterPossibleKnightSquareToFocusSquare(color, destSquare, validSquareList, br);
-
-        // right-bottom-diagonal
-        destSquare = getSquareAt(focusSquare, 2, -1);
-        if (destSquare != null)
-            SquareFilter.filterPossibleKnightSquareToFocusSquare(color, destSquare, validSquareList, br);
-
-        return validSquareList;
+    public static long possibleKnightTo(int focusSquare, int color, BoardRegistry br) {
+        // knights jump both ways, so the knights of the army on the jump squares can come
+        return AttackTable.knight(focusSquare) & br.bitboard(Piece.KNIGHT, color);
     }
 
     /**
@@ -447,90 +179,14 @@ public abstract class GeometryEngineer {
 
         ArrayList<String> alignedSquares = new ArrayList<>();
 
-        char file = Square.fileAsChar(kingSquare);
-        int rank = Square.rankAsInt(kingSquare);
-
-        // get the top squares
-        alignedSquares.add(OS_SEPARATOR);
-        for (int r = rank + 1; r <= 8; r++) {
-            String square = file + "" + r;
-            alignedSquares.add(square);
-        }
-
-        // get the bottom squares
-        alignedSquares.add(OS_SEPARATOR);
-        for (int r = rank - 1; r >= 1; r--) {
-            String square = file + "" + r;
-            alignedSquares.add(square);
+        // top, bottom, left, right, top-left, top-right, bottom-left & bottom-right segments
+        int king = Square.of(kingSquare);
+        for (int direction = 0; direction < 8; direction++) {
+            alignedSquares.add(OS_SEPARATOR);
+            for (int square = Square.step(king, direction); square != Square.NONE; square = Square.step(square, direction))
+                alignedSquares.add(Square.name(square));
         }
 
-        // get the left squares
-        alignedSquares.add(OS_SEPARATOR);
-        for (char f = (char) (file - 1); f >= 'a'; f--) {
-            String square = f + "" + rank;
-            alignedSquares.add(square);
-        }
-
-        // get the right squares
-        alignedSquares.add(OS_SEPARATOR);
-        for (char f = (char) (file + 1); f <= 'h'; f++) {
-            String square = f + "" + rank;
-            alignedSquares.add(square);
-        }
-
-        // get the top-left
-        alignedSquares.add(OS_SEPARATOR);
-        char f = file;
-        int r = rank;
-        while (true) {
-            f--;
-            r++;
-            if (f < 'a' || r > 8) break;
-
-            String square = f + "" + r;
-            alignedSquares.add(square);
-        }
-
-        // get the top-right
-        alignedSquares.add(OS_SEPARATOR);
-        f = file;
-        r = rank;
-        while (true) {
-            f++;
-            r++;
-            if (f > 'h' || r > 8) break;
-
-            String square = f + "" + r;
-            alignedSquares.add(square);
-        }
-
-
-        // get the bottom-left
-        alignedSquares.add(OS_SEPARATOR);
-        f = file;
-        r = rank;
-        while (true) {
-            f--;
-            r--;
-            if (f < 'a' || r < 1) break;
-
-            String square = f + "" + r;
-            alignedSquares.add(square);
-        }
-
-
-        // get the bottom-right
-        alignedSquares.add(OS_SEPARATOR);
-        f = file;
-        r = rank;
-        while (true) {
-            f++;
-            r--;
-            if (f > 'h' || r < 1) break;
-
-            String square = f + "" + r;
-            alignedSquares.add(square);
-        }
         alignedSquares.add(OS_SEPARATOR);
         return alignedSquares;
     }
@@ -547,66 +203,21 @@ public abstract class GeometryEngineer {
     // this method just calculate the 8 squares around a center square using geometric
     // calculation
     public static ArrayList<String> octalSquareTo1(String from) {
+        return Bitboard.toSquareList(octalSquareTo1(Square.of(from)));
+    }
 
+    public static long octalSquareTo1(int from) {
         // an octal square has  up to 8 squares from current square
-
-        ArrayList<String> octalSquareList = new ArrayList<>();
-        String destSquare;
-
-        // top
-        destSquare = getSquareAt(from, 0, 1);
-        if (destSquare != null) octalSquareList.add(destSquare);
-
-        // top-left
-        destSquare = getSquareAt(from, -1, 1);
-        if (destSquare != null) octalSquareList.add(destSquare);
-
-        // top-right
-        destSquare = getSquareAt(from, 1, 1);
-        if (destSquare != null) octalSquareList.add(destSquare);
-
-        // left
-        destSquare = getSquareAt(from, -1, 0);
-        if (destSquare != null) octalSquareList.add(destSquare);
-
-        // right
-        destSquare = getSquareAt(from, 1, 0);
-        if (destSquare != null) octalSquareList.add(destSquare);
-
-        // bottom
-        destSquare = getSquareAt(from, 0, -1);
-        if (destSquare != null) octalSquareList.add(destSquare);
-
-        // bottom-left
-        destSquare = getSquareAt(from, -1, -1);
-        if (destSquare != null) octalSquareList.add(destSquare);
-
-        // bottom-right
-        destSquare = getSquareAt(from, 1, -1);
-        if (destSquare != null) octalSquareList.add(destSquare);
-
-
-        return octalSquareList;
+        return AttackTable.king(from);
     }
 
     /*
      * from a given square, by using file step and rank step, this function can calculate chess
-     * coordinate in string notation like c4 to g5 where rank step is +1 and file step is +4
+     * coordinate in string notation like c4 to g5 where rank step is +1 and file step is +4.
+     * the int squares can use Square.at() directly.
      * */
     public static String getSquareAt(String from, int fileStep, int rankStep) {
-        char inputFile = Square.fileAsChar(from);
-        char inputRank = Square.rankAsChar(from);
-
-        char destFile = (char) (inputFile + fileStep);
-        char destRank = (char) (inputRank + rankStep);
-
-        boolean destFileRange = destFile >= 'a' && destFile <= 'h';
-        boolean destRankRange = destRank >= '1' && destRank <= '8';
-
-        String square = null;
-        if (destFileRange && destRankRange)
-            square = destFile + "" + destRank;
-        return square;
+        return Square.name(Square.at(Square.of(from), fileStep, rankStep));
     }
 
     /**
@@ -1,22 +1,28 @@
 package tanzi.algorithm;
 
+import tanzi.model.Bitboard;
 import tanzi.model.MoveMeta;
 import tanzi.model.Piece;
 import tanzi.model.Square;
 import tanzi.staff.BoardRegistry;
-import tanzi.staff.BufferedBR;
-
-import java.util.ArrayList;
 
 public abstract class King {
 
+    // files between the king & the rook for short (f, g) & long (b, c, d) castle on every rank
+    private static final long SHORT_CASTLE_PATH = Bitboard.fileMask(5) | Bitboard.fileMask(6);
+    private static final long LONG_CASTLE_PATH = Bitboard.fileMask(1) | Bitboard.fileMask(2) | Bitboard.fileMask(3);
+
     public static boolean canGo(String srcSquare, String destSquare, BoardRegistry br) {
+        return canGo(Square.of(srcSquare), Square.of(destSquare), br);
+    }
+
+    public static boolean canGo(int srcSquare, int destSquare, BoardRegistry br) {
 
         Piece king = br.piece(srcSquare);
 
         // prove the king move by chess geometry
-        ArrayList<String> validKingSquares = GeometryEngineer.validSquare(king.type, king.color, king.currentSquare(), true, br);
-        if (!validKingSquares.contains(destSquare)) return false;
+        long validKingSquares = GeometryEngineer.validSquare(king.type, king.color, srcSquare, true, br);
+        if (destSquare == Square.NONE || !Bitboard.has(validKingSquares, destSquare)) return false;
 
         // then see whether there is KingKingClash on the destination square
         if (kingClashOn(destSquare, br)) return false;
@@ -26,19 +32,15 @@ public abstract class King {
         // any enemy piece if any. then see whether the king is safe there. if so then the
         // king can go to the destination square otherwise not.
 
-        BufferedBR bufferedBR = br.copy();
-
-        // if it is an enemy piece on the destination square then remove it
-        bufferedBR.delete(destSquare);
-
-        // make the king move
-        king = bufferedBR.movePiece(srcSquare, destSquare);
+        // make the king move in place capturing any enemy piece on the destination square
+        int mark = br.makeMove(srcSquare, destSquare, -1);
 
         // after king made the move, let's see whether the king can be attacked there
-        boolean canGo = Arbiter.amISafe(king.color, king.currentSquare(), bufferedBR);
-
-        bufferedBR.recycle();
-        return canGo;
+        try {
+            return Arbiter.amISafe(king.color, destSquare, br);
+        } finally {
+            br.unmakeMove(mark);
+        }
     }
 
     /*
@@ -54,23 +56,21 @@ public abstract class King {
      * */
     public static int canCastle(int fromIndex, int toIndex, BoardRegistry br) {
 
-        BufferedBR bufferedBR = br.copy();
-
-        String kingSquare = Square.forIndex(fromIndex);
-        String destSquare = Square.forIndex(toIndex);
+        int kingSquare = Square.fromIndex(fromIndex);
+        int destSquare = Square.fromIndex(toIndex);
 
-        if (destSquare == null) return -1;
+        if (destSquare == Square.NONE) return -1;
 
-        Piece king = bufferedBR.piece(kingSquare);
+        Piece king = br.piece(kingSquare);
         int kingColor = king.color;
         char file = Square.fileAsChar(destSquare);
 
         // king already made move previously so return -1 to say we can't have a castle move
         if (king.hasMoved()) return -1;
 
-        String rookSquare = getRookSquare(file, kingColor);
-        if (rookSquare == null) return -1;
-        Piece rook = bufferedBR.piece(rookSquare);
+        int rookSquare = getRookSquare(file, kingColor);
+        if (rookSquare == Square.NONE) return -1;
+        Piece rook = br.piece(rookSquare);
         /*
          * if no rook found there then the rook has moved somewhere which concludes that it can't be
          * castled or if the rook was found at position but the has move as it hasMoved says so.
@@ -82,19 +82,17 @@ public abstract class King {
          * rules the square must be free and can't be guarded by enemy pieces. this method calculate
          * that square the king uses to castle which is known as passingSquare in the code-base.
          * */
-        char passingFile = file == 'g' ? 'f' : 'd';
         int passingRank = king.isWhite() ? 1 : 8;
-        String passingSquare = String.valueOf(passingFile) + passingRank;
+        int passingSquare = Square.of(file == 'g' ? 5 : 3, passingRank);
 
         // make sure there is no piece in between the king and the rook
-        String[] squareBetweenKingRook = getSquareInKingRook(passingRank, file);
-        for (String square : squareBetweenKingRook) if (bufferedBR.anyPieceOn(square)) return -1;
+        if ((br.occupancy() & getSquareInKingRook(passingRank, file)) != Bitboard.EMPTY) return -1;
 
-        ArrayList<String> validKingSquare = GeometryEngineer.validSquare(Piece.KING, kingColor, kingSquare, true, bufferedBR);
-        if (!validKingSquare.contains(passingSquare)) return -1;
+        long validKingSquare = GeometryEngineer.validSquare(Piece.KING, kingColor, kingSquare, true, br);
+        if (!Bitboard.has(validKingSquare, passingSquare)) return -1;
 
         // check for passing via square first
-        boolean kingCanGo = canGo(kingSquare, passingSquare, bufferedBR);
+        boolean kingCanGo = canGo(kingSquare, passingSquare, br);
         if (!kingCanGo) return -1;
 
         /*
@@ -102,19 +100,17 @@ public abstract class King {
          * the dest square which will check for situation that if king can reach the square and that
          * square is guarded by enemy piece.
          */
-        bufferedBR.movePiece(kingSquare, passingSquare);
-        bufferedBR.updateOSSquare(kingColor, passingSquare);
-
-        kingCanGo = canGo(passingSquare, destSquare, bufferedBR);
-
-        int result = 0;
-        if (!kingCanGo) result = -1;
+        int mark = br.makeMove(kingSquare, passingSquare, -1);
+        try {
+            kingCanGo = canGo(passingSquare, destSquare, br);
+        } finally {
+            br.unmakeMove(mark);
+        }
 
-        // recycle the BufferedBR
-        bufferedBR.recycle();
+        if (!kingCanGo) return -1;
 
         // at this position, we can say that is a castle move. let's see which castle it is
-        return result == -1 ? result : (file == 'g' ? 1 : 2);
+        return file == 'g' ? 1 : 2;
     }
 
     public static int canCastle(String from, String to, BoardRegistry br) {
@@ -125,22 +121,23 @@ public abstract class King {
      * based on the castle direction(by file) and rank(by color) this method returns square where a
      * rook should be for a legal castle by the standard chess game.
      *
-     * it returns null if file & rank can't be resolved to calculate the right square for the rook.
+     * it returns NONE square if file & rank can't be resolved to calculate the right square for
+     * the rook.
      * */
-    private static String getRookSquare(char file, int kingColor) {
-        if (file == 'g' && kingColor == Piece.COLOR_WHITE) return "h1";
-        if (file == 'c' && kingColor == Piece.COLOR_WHITE) return "a1";
-        if (file == 'g' && kingColor == Piece.COLOR_BLACK) return "h8";
-        if (file == 'c' && kingColor == Piece.COLOR_BLACK) return "a8";
-        return null;
+    private static int getRookSquare(char file, int kingColor) {
+        int rank = kingColor == Piece.COLOR_WHITE ? 1 : 8;
+        if (file == 'g') return Square.of(7, rank);
+        if (file == 'c') return Square.of(0, rank);
+        return Square.NONE;
     }
 
     /*
-     * for given the rank and file(to decide which type of castle) it can generate squares that would
-     * be checked to make sure that there is no pieces on them to have a valid castle.
+     * for given the rank and file(to decide which type of castle) it can generate the mask of squares
+     * that would be checked to make sure that there is no pieces on them to have a valid castle.
      * */
-    private static String[] getSquareInKingRook(int rank, char file) {
-        return file == 'g' ? new String[]{"f" + rank, "g" + rank} : new String[]{"d" + rank, "c" + rank, "b" + rank};
+    private static long getSquareInKingRook(int rank, char file) {
+        long rankMask = Bitboard.rankMask(rank);
+        return rankMask & (file == 'g' ? SHORT_CASTLE_PATH : LONG_CASTLE_PATH);
     }
 
     /*
@@ -245,23 +242,16 @@ public abstract class King {
     // if so that means there are two kings having influence over the given square thus
     // it returns true
     public static boolean kingClashOn(String square, BoardRegistry br) {
-        // get the octal square to degree one
-        ArrayList<String> octalSquareList = GeometryEngineer.octalSquareTo1(square);
-
-        int count = 0;
-        for (String octalSquare : octalSquareList) {
-            // figure out whether the piece is empty
-            Piece piece = br.piece(octalSquare);
-            if (piece == null) continue;
+        return kingClashOn(Square.of(square), br);
+    }
 
-            // make sure the piece is a king
-            if (piece.isKing()) count++;
+    public static boolean kingClashOn(int square, BoardRegistry br) {
+        // get the octal square to degree one & mask it with both the kings
+        long octalSquares = GeometryEngineer.octalSquareTo1(square);
+        long kings = br.bitboard(Piece.KING, Piece.COLOR_WHITE) | br.bitboard(Piece.KING, Piece.COLOR_BLACK);
 
-            // for a square to guarded by two kings, the count will be two.
-            // if so then true
-            if (count == 2) return true;
-        }
-        return false;
+        // for a square to guarded by two kings, the count will be two
+        return Bitboard.count(octalSquares & kings) >= 2;
     }
 
 }
@@ -2,16 +2,20 @@ package tanzi.algorithm;
 
 import tanzi.model.MoveMeta;
 import tanzi.model.Piece;
+import tanzi.model.Square;
 
 /**
  * this class can analyze moves written in PGN format and returns MoveMeta objects after analysis as
  * result. with such a move meta, the engine can really understand which pieces are involved in the move
  * and how the game proceeds.
  * <p>
- * calls to each analysis method must maintain the following order, otherwise the outcome
- * would be incomplete or incorrect.
+ * the move is read in a single pass over its characters, which finds the positions of the "x", the "="
+ * & the dashes of a castle. the properties of the move meta are then decoded from those positions. the
+ * squares are taken from the square names of the {@link Square} class, so no string is created while
+ * the move is analyzed.
  * <p>
- * ORDER OF METHOD CALLS : takeMove > castleMove > promotionMove > uniqueMove > simpleMove
+ * to analyze every move of a large number of games without creating any object, use the same move meta
+ * for each move by {@link #analyze(String, MoveMeta)}.
  */
 
 public abstract class MoveAnalyzer {
@@ -32,92 +36,83 @@ public abstract class MoveAnalyzer {
      */
     public static MoveMeta analyze(String move) {
         MoveMeta moveMeta = new MoveMeta(move.trim());
-
-        takeMove(moveMeta);
-        castleMove(moveMeta);
-        promotionMove(moveMeta);
-        unique(moveMeta);
-        simpleMove(moveMeta);
-
+        parse(moveMeta);
         return moveMeta;
     }
 
-    // verify whether a given move is simple move such as e4, g4, Nf3, Bb5
-    private static void simpleMove(MoveMeta moveMeta) {
-
-        // get which type of piece it is moving
-        moveMeta.type = Piece.getType(moveMeta.normalizedMove.charAt(0));
-
-        if (moveMeta.takes || moveMeta.castle || moveMeta.promotion || moveMeta.uniqueName)
-            return;
-
-        moveMeta.simpleMove = true;
+    /**
+     * Same as above but the analysis is written into the given move meta, which is reset first. Any
+     * previous information of the move meta is lost, so it must not be held by anyone else such as
+     * the move repo. The normalized move is not calculated as it would need a new string.
+     *
+     * @param move     string version of the move such as Nf3, Rxb4, O-O-O etc.
+     * @param moveMeta the move meta to be reused for the move
+     * @return MoveMeta the same move meta passed in
+     */
+    public static MoveMeta analyze(String move, MoveMeta moveMeta) {
+        moveMeta.reset(move.trim());
+        parse(moveMeta);
+        return moveMeta;
+    }
 
-        // check whether it is just a 2 digit simple pawn move
-        if (moveMeta.normalizedMove.length() == 2) {
-            moveMeta.destSquare = moveMeta.normalizedMove;
-            return;
+    private static void parse(MoveMeta moveMeta) {
+        // the check & checkmate signs at the end are not a part of the move itself
+        String san = moveMeta.move;
+        int length = san.length();
+        while (length > 0 && (san.charAt(length - 1) == '+' || san.charAt(length - 1) == '#')) length--;
+        if (length == 0) return;
+
+        int xPos = -1, equalPos = -1, dashCount = 0;
+        for (int i = 0; i < length; i++) {
+            char c = san.charAt(i);
+            if (c == 'x' && xPos == -1) xPos = i;
+            else if (c == '=' && equalPos == -1) equalPos = i;
+            else if (c == '-') dashCount++;
         }
 
-        // calculate how many O in the move, to avoid trusting on blind length counting
-        int oLen = moveMeta.normalizedMove.split("-").length;
-
-        // check whether it is just a 3 digit piece move, not an O-O-O castle move lurking in the move
-        if (moveMeta.normalizedMove.length() == 3 && oLen == 1)
-            moveMeta.destSquare = moveMeta.normalizedMove.substring(1);
-
-    }
+        // get which type of piece it is moving
+        moveMeta.type = Piece.getType(san.charAt(0));
 
-    // check if a given move involves in taking other piece such as exd5, Nxg7, Kxe3, Nf3xf3=Q+
-    private static void takeMove(MoveMeta moveMeta) {
-        // check whether it is a take move
-        int xPos = moveMeta.normalizedMove.indexOf("x");
+        // a take move such as exd5, Nxg7, Kxe3, Nf3xf3=Q+
         if (xPos != -1) {
-            moveMeta.destSquare = moveMeta.normalizedMove.substring(xPos + 1, xPos + 3);
+            moveMeta.destSquare = square(san, xPos + 1, length);
             moveMeta.takes = true;
         }
-    }
-
-    // verify whether a given move is a castle move. cases are O-O(short castle) & O-O-O(long castle)
-    private static void castleMove(MoveMeta moveMeta) {
-        // calculate how many O in the move to figure castle type
-        int oLen = moveMeta.normalizedMove.split("-").length;
 
-        // check whether it is castling move
-        if (oLen >= 2) {
-            if (oLen == 2) moveMeta.shortCastle = true; // O-O
-            if (oLen == 3) moveMeta.longCastle = true;  // O-O-O
+        // a castle move, O-O(short castle) & O-O-O(long castle)
+        if (dashCount > 0) {
+            if (dashCount == 1) moveMeta.shortCastle = true;
+            if (dashCount == 2) moveMeta.longCastle = true;
             moveMeta.destSquare = null;
             moveMeta.castle = true;
         }
-    }
 
-    // detect a move is a promotion move or not such as exd8=Q+, g8=R#
-    private static void promotionMove(MoveMeta moveMeta) {
-        // find whether it is a promotion move
-        int equalPos = moveMeta.normalizedMove.indexOf("=");
+        // a promotion move such as exd8=Q+, g8=R#
         if (equalPos != -1) {
             moveMeta.promotion = true;
-            moveMeta.promoteType = Piece.getType(moveMeta.normalizedMove.charAt(equalPos + 1));
-            // let's see if destSquare has been already calculated in take validation phase
-            if (!moveMeta.takes)
-                moveMeta.destSquare = moveMeta.normalizedMove.substring(equalPos - 2, equalPos);
+            moveMeta.promoteType = equalPos + 1 < length ? Piece.getType(san.charAt(equalPos + 1)) : -1;
+            if (!moveMeta.takes) moveMeta.destSquare = square(san, equalPos - 2, length);
         }
+
+        unique(san, length, moveMeta);
+
+        if (moveMeta.takes || moveMeta.castle || moveMeta.promotion || moveMeta.uniqueName) return;
+
+        // a simple move such as e4, g4, Nf3, Bb5
+        moveMeta.simpleMove = true;
+        if (length == 2) moveMeta.destSquare = square(san, 0, length);
+        if (length == 3) moveMeta.destSquare = square(san, 1, length);
     }
 
     // try to detect if a given move has unique piece name such Ncxd6, R7e7, Rc3xf3#
-    private static void unique(MoveMeta moveMeta) {
+    private static void unique(String move, int length, MoveMeta moveMeta) {
 
         // we have reached the conclusion that if it is a promotion move then there can't be any unique entity
-        if (moveMeta.promotion) return;
-
-        String move = moveMeta.normalizedMove;
-
-        // test whether there is anything unique about the move
-        if (move.charAt(1) == 'x' || moveMeta.castle || move.length() < 4) return;
+        if (moveMeta.promotion || moveMeta.castle || length < 4) return;
 
         // usually it is after the piece name such as Nc3 here we're talking about the "c"
         char uChar = move.charAt(1);
+        if (uChar == 'x') return;
 
         // get the index for dest square based on whether "x" is there or not in the move
         int destSquareIndex = (!moveMeta.takes) ? 2 : 3;
@@ -130,7 +125,7 @@ public abstract class MoveAnalyzer {
             char u2Char = move.charAt(2);
             if (Character.isDigit(u2Char)) {
                 // it is a fully expressed unique name
-                moveMeta.uniqueSquareName = uChar + String.valueOf(u2Char);
+                moveMeta.uniqueSquareName = square(move, 1, length);
                 moveMeta.uniqueSquare = true;
 
                 // update the dest square index accordingly
@@ -147,9 +142,15 @@ public abstract class MoveAnalyzer {
         }
 
         if (moveMeta.destSquare == null)
-            moveMeta.destSquare = move.substring(destSquareIndex, destSquareIndex + 2);
+            moveMeta.destSquare = square(move, destSquareIndex, length);
 
         moveMeta.uniqueName = true;
     }
 
+    // the name of the square written at the index of the move, null if there is no square
+    private static String square(String move, int index, int length) {
+        if (index < 0 || index + 1 >= length) return null;
+        return Square.name(Square.of(move.charAt(index) - 'a', move.charAt(index + 1) - '0'));
+    }
+
 }
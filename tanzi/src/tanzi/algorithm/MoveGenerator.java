@@ -0,0 +1,229 @@
+package tanzi.algorithm;
+
+import tanzi.model.*;
+import tanzi.staff.BoardRegistry;
+
+/**
+ * This class lists all the legal moves of an army by all chess rules, including en-passant,
+ * castle & promotion. The moves are packed ints of the {@link Move} class and written into an int
+ * array the caller supplies, so that the same array can be used for every position without
+ * creating any object.
+ * <p>
+ * The squares each piece attacks come from the {@link AttackTable} & {@link SlidingAttack}. Moves of
+ * the pieces other than the king are filtered by the pins & checks of the {@link CheckInfo} of the
+ * position, which is a mask test. King moves & en-passant captures are checked by the occupancy of
+ * the board after the move, calculated by bits. So the BR is never changed or copied. A promotion
+ * gives four moves, one for each type the pawn can be promoted to.
+ */
+
+public abstract class MoveGenerator {
+
+    /**
+     * The size of the array that can hold the moves of any position. No legal position is known to
+     * have more than 218 moves.
+     */
+    public static final int MAX_MOVES = 256;
+
+    private static final int[] PROMOTION_TYPES = {Piece.QUEEN, Piece.ROOK, Piece.BISHOP, Piece.KNIGHT};
+
+    // squares between the king & the rook, and the squares the king passes for each castle
+    private static final long WHITE_SHORT_PATH = Bitboard.bit(5) | Bitboard.bit(6);
+    private static final long WHITE_LONG_PATH = Bitboard.bit(1) | Bitboard.bit(2) | Bitboard.bit(3);
+    private static final long BLACK_SHORT_PATH = WHITE_SHORT_PATH << 56;
+    private static final long BLACK_LONG_PATH = WHITE_LONG_PATH << 56;
+
+    private MoveGenerator() {
+
+    }
+
+    /**
+     * Writes all the legal moves of the army to play next in the BR into the array and returns the
+     * number of the moves. The array must be able to hold {@link #MAX_MOVES} moves.
+     */
+    public static int generate(int[] moves, BoardRegistry br) {
+        return generate(br.sideToMove(), moves, br);
+    }
+
+    /**
+     * Same as above but for the moves of the specified army regardless of whose turn it is.
+     */
+    public static int generate(int color, int[] moves, BoardRegistry br) {
+        return generate(color, ~Bitboard.EMPTY, moves, MAX_MOVES, br);
+    }
+
+    /**
+     * Writes the legal moves of the piece on the square into the array and returns the number of
+     * moves. It is zero if there is no piece on the square.
+     */
+    public static int generateFor(int square, int[] moves, BoardRegistry br) {
+        Piece piece = br.piece(square);
+        if (piece == null) return 0;
+        return generate(piece.color, Bitboard.bit(square), moves, MAX_MOVES, br);
+    }
+
+    /**
+     * Tells whether the army has any legal move at all. It stops at the first legal move found.
+     */
+    public static boolean hasLegalMove(int color, BoardRegistry br) {
+        return generate(color, ~Bitboard.EMPTY, null, 1, br) > 0;
+    }
+
+    /*
+     * generates the moves of the pieces of the army on the source squares. it stops after the
+     * piece which makes the count reach the limit. the moves are only counted for a null array.
+     * */
+    private static int generate(int color, long sources, int[] moves, int limit, BoardRegistry br) {
+        int enemyColor = Piece.getOppositeColor(color);
+        long own = br.armyBitboard(color);
+        long enemy = br.armyBitboard(enemyColor);
+        long occupied = br.occupancy();
+
+        int kingSquare = Bitboard.first(br.bitboard(Piece.KING, color));
+        if (kingSquare == 64) return 0;
+
+        CheckInfo checkInfo = br.checkInfo(color);
+        int count = 0;
+
+        // king steps, then castles as they need the king to be safe on its square
+        if (Bitboard.has(sources, kingSquare)) {
+            for (long bb = AttackTable.king(kingSquare) & ~own; bb != 0; bb &= bb - 1) {
+                int to = Bitboard.first(bb);
+                long occupiedAfter = (occupied ^ Bitboard.bit(kingSquare)) | Bitboard.bit(to);
+                if (!attacked(to, color, occupiedAfter, Bitboard.bit(to), br))
+                    count = add(moves, count, Move.of(kingSquare, to, Piece.KING, capturedType(to, br), -1, 0));
+            }
+            if (!checkInfo.inCheck()) count = castles(color, kingSquare, moves, count, br);
+            if (count >= limit) return count;
+        }
+
+        // only the king can move out of a double check
+        if (checkInfo.checkMask() == Bitboard.EMPTY) return count;
+
+        // knights, bishops, rooks & queens
+        for (int type = Piece.QUEEN; type <= Piece.KNIGHT; type++) {
+            for (long pieces = br.bitboard(type, color) & sources; pieces != 0; pieces &= pieces - 1) {
+                int from = Bitboard.first(pieces);
+                long targets = attacks(type, from, occupied) & ~own & checkInfo.allowed(from);
+
+                for (long bb = targets; bb != 0; bb &= bb - 1) {
+                    int to = Bitboard.first(bb);
+                    count = add(moves, count, Move.of(from, to, type, capturedType(to, br), -1, 0));
+                }
+                if (count >= limit) return count;
+            }
+        }
+
+        // pawns push forward & capture diagonally, white up the board and black down
+        int forward = color == Piece.COLOR_WHITE ? 8 : -8;
+        long startRank = Bitboard.rankMask(color == Piece.COLOR_WHITE ? 2 : 7);
+        long lastRank = Bitboard.rankMask(color == Piece.COLOR_WHITE ? 8 : 1);
+
+        EnPasser enPasser = br.restoreEnPasser(color);
+        int enPassantSquare = enPasser == null ? Square.NONE : Square.of(enPasser.intermediateSquare);
+
+        for (long pawns = br.bitboard(Piece.PAWN, color) & sources; pawns != 0; pawns &= pawns - 1) {
+            int from = Bitboard.first(pawns);
+            long fromBit = Bitboard.bit(from);
+            long allowed = checkInfo.allowed(from);
+
+            long targets = AttackTable.pawn(color, from) & enemy;
+            int push = from + forward;
+            if (!Bitboard.has(occupied, push)) {
+                targets |= Bitboard.bit(push);
+                int to = push + forward;
+                if ((fromBit & startRank) != 0 && !Bitboard.has(occupied, to) && Bitboard.has(allowed, to))
+                    count = add(moves, count, Move.of(from, to, Piece.PAWN, -1, -1, Move.DOUBLE_PUSH));
+            }
+
+            for (long bb = targets & allowed; bb != 0; bb &= bb - 1) {
+                int to = Bitboard.first(bb);
+                int capturedType = capturedType(to, br);
+                if (!Bitboard.has(lastRank, to)) {
+                    count = add(moves, count, Move.of(from, to, Piece.PAWN, capturedType, -1, 0));
+                    continue;
+                }
+
+                for (int promotionType : PROMOTION_TYPES)
+                    count = add(moves, count, Move.of(from, to, Piece.PAWN, capturedType, promotionType, 0));
+            }
+
+            // taking the en-passer removes a pawn from a square other than the destination square
+            if (enPassantSquare != Square.NONE && Bitboard.has(AttackTable.pawn(color, from), enPassantSquare)) {
+                long passerBit = Bitboard.bit(Square.of(enPasser.nowSquare));
+                long occupiedAfter = (occupied ^ fromBit ^ passerBit) | Bitboard.bit(enPassantSquare);
+                if (!attacked(kingSquare, color, occupiedAfter, passerBit, br))
+                    count = add(moves, count, Move.of(from, enPassantSquare, Piece.PAWN, Piece.PAWN, -1, Move.EN_PASSANT));
+            }
+
+            if (count >= limit) return count;
+        }
+
+        return count;
+    }
+
+    /*
+     * the king can castle while it & the rook haven't moved, the squares between them are empty and
+     * the king is not in check on its square, on the square it passes & on the square it lands.
+     * */
+    private static int castles(int color, int kingSquare, int[] moves, int count, BoardRegistry br) {
+        int rights = br.castleRights();
+        long occupied = br.occupancy();
+        boolean white = color == Piece.COLOR_WHITE;
+
+        int shortRight = white ? BoardRegistry.CASTLE_WHITE_KING_SIDE : BoardRegistry.CASTLE_BLACK_KING_SIDE;
+        int longRight = white ? BoardRegistry.CASTLE_WHITE_QUEEN_SIDE : BoardRegistry.CASTLE_BLACK_QUEEN_SIDE;
+        if ((rights & (shortRight | longRight)) == 0) return count;
+        if (attacked(kingSquare, color, occupied, Bitboard.EMPTY, br)) return count;
+
+        if ((rights & shortRight) != 0 && (occupied & (white ? WHITE_SHORT_PATH : BLACK_SHORT_PATH)) == 0
+                && !attacked(kingSquare + 1, color, occupied, Bitboard.EMPTY, br)
+                && !attacked(kingSquare + 2, color, occupied, Bitboard.EMPTY, br))
+            count = add(moves, count, Move.of(kingSquare, kingSquare + 2, Piece.KING, -1, -1, Move.CASTLE));
+
+        if ((rights & longRight) != 0 && (occupied & (white ? WHITE_LONG_PATH : BLACK_LONG_PATH)) == 0
+                && !attacked(kingSquare - 1, color, occupied, Bitboard.EMPTY, br)
+                && !attacked(kingSquare - 2, color, occupied, Bitboard.EMPTY, br))
+            count = add(moves, count, Move.of(kingSquare, kingSquare - 2, Piece.KING, -1, -1, Move.CASTLE));
+
+        return count;
+    }
+
+    /**
+     * Tells whether the square is attacked by the enemy of the color for the occupancy of the board.
+     * Enemy pieces on the captured squares are ignored as they are taken by the move being checked.
+     */
+    public static boolean attacked(int square, int color, long occupied, long captured, BoardRegistry br) {
+        int enemyColor = Piece.getOppositeColor(color);
+        long alive = ~captured;
+
+        long queens = br.bitboard(Piece.QUEEN, enemyColor);
+        long diagonal = (br.bitboard(Piece.BISHOP, enemyColor) | queens) & alive;
+        long straight = (br.bitboard(Piece.ROOK, enemyColor) | queens) & alive;
+
+        return (AttackTable.knight(square) & br.bitboard(Piece.KNIGHT, enemyColor) & alive) != 0
+                || (AttackTable.pawn(color, square) & br.bitboard(Piece.PAWN, enemyColor) & alive) != 0
+                || (AttackTable.king(square) & br.bitboard(Piece.KING, enemyColor)) != 0
+                || (SlidingAttack.bishop(square, occupied) & diagonal) != 0
+                || (SlidingAttack.rook(square, occupied) & straight) != 0;
+    }
+
+    private static long attacks(int type, int square, long occupied) {
+        return switch (type) {
+            case Piece.QUEEN -> SlidingAttack.queen(square, occupied);
+            case Piece.ROOK -> SlidingAttack.rook(square, occupied);
+            case Piece.BISHOP -> SlidingAttack.bishop(square, occupied);
+            default -> AttackTable.knight(square);
+        };
+    }
+
+    private static int capturedType(int square, BoardRegistry br) {
+        Piece piece = br.piece(square);
+        return piece == null ? -1 : piece.type;
+    }
+
+    private static int add(int[] moves, int count, int move) {
+        if (moves != null) moves[count] = move;
+        return count + 1;
+    }
+
+}
@@ -62,6 +62,9 @@ public abstract class MoveMaker {
 
         BRHistory.Builder hisBuilder = BRHistory.Builder.forMove(meta.moveIndex);
 
+        // any enemy en-passer is gone after this move, so keep it for undoing the move
+        hisBuilder.enPasserToUndo(br.restoreEnPasser(meta.color));
+
         boolean simpleMove = MoveMaker.simpleMove(meta, srcSquare, br, hisBuilder);
         boolean takeMove = MoveMaker.capture(meta, srcSquare, br, hisBuilder);
         boolean promotionMove = MoveMaker.promotion(meta, srcSquare, br, hisBuilder);
@@ -113,6 +116,7 @@ public abstract class MoveMaker {
                 .pieceToUndo(udKing, udRook)
                 .squareToRedo(castleMeta[0], castleMeta[1])
                 .pieceToRedo(rdKing, rdRook)
+                .enPasserToUndo(br.restoreEnPasser(meta.color))
                 .build();
     }
 
@@ -139,7 +143,7 @@ public abstract class MoveMaker {
                 .pieceToUndo(udTaker, unEnPasser)
                 .squareToRedo(udTaker.currentSquare(), meta.enPasserNow)
                 .pieceToRedo(rdTaker)
-                .enPasserToUndo(null)
+                .enPasserToUndo(br.restoreEnPasser(meta.color))
                 .build();
     }
 
@@ -4,7 +4,6 @@ import tanzi.model.*;
 import tanzi.protocol.PromotionHandler;
 import tanzi.staff.BRHistorian;
 import tanzi.staff.BoardRegistry;
-import tanzi.staff.BufferedBR;
 import tanzi.staff.MoveRepo;
 
 /**
@@ -34,56 +33,46 @@ public abstract class PGN {
      */
     public static String translate(int indexA, int indexB, int promotionType, BoardRegistry br) {
 
-        BufferedBR bbr = br.copy();
+        int src = Square.fromIndex(indexA);
+        int dest = Square.fromIndex(indexB);
 
-        String srcSquare = Square.forIndex(indexA);
-        String destSquare = Square.forIndex(indexB);
+        String srcSquare = Square.name(src);
+        String destSquare = Square.name(dest);
 
         // define moving piece properties
-        Piece srcPiece = bbr.piece(srcSquare);
+        Piece srcPiece = br.piece(src);
         int type = srcPiece.type;
         int color = srcPiece.color;
         String movingPieceName = srcPiece.getShortName();
 
         // if it is a castle move then see if the move made any check to the enemy king
         if (srcPiece.isKing() && King.wantToCastle(srcSquare, destSquare)) {
-            int canCastle = King.canCastle(indexA, indexB, bbr);
+            int canCastle = King.canCastle(indexA, indexB, br);
             if (canCastle == -1) return null;
             String castle = (canCastle == 1) ? "O-O" : "O-O-O";
 
             // now check if we play the castle move then the enemy king is in check or not.
-            // so, make this castle move
-            String[] cMeta = King.getCastleMeta(canCastle, color);
-
-            bbr.movePiece(cMeta[0], cMeta[2]);
-            bbr.movePiece(cMeta[1], cMeta[3]);
+            // so, make this castle move; the rook moves along with the king
+            int mark = br.makeMove(src, dest, -1);
 
             // now check whether I have given check to enemy
-            String mateStatus = Check.mateStatus(color, destSquare, bbr);
-            bbr.recycle();
+            String mateStatus;
+            try {
+                mateStatus = Check.mateStatus(color, destSquare, br);
+            } finally {
+                br.unmakeMove(mark);
+            }
 
             if (mateStatus.isEmpty()) return castle;
             return castle + "" + mateStatus;
         }
 
         // get the enPasser if there is any and see whether that can be taken by this move
-        EnPasser enPasser = bbr.restoreEnPasser(color);
-        if (srcPiece.isPawn() && EnPassant.amIEnpasserTaker(srcSquare, enPasser) && EnPassant.amITakingEnPasser(destSquare, enPasser)) {
-            // found an enPasser. put it on intermediate square for being available to take
-            bbr.movePiece(enPasser.nowSquare, enPasser.intermediateSquare);
-        }
-
-        // am I being an en-passer?
-        EnPasser meAsEnpasser = EnPassant.amIEnpasser(srcSquare, destSquare, bbr);
-        if (type == Piece.PAWN && meAsEnpasser != null) {
-            // save this en-passer object to the buffered BR so that the other algorithms from this point can
-            // make use of this and can correctly work out the PGN calculation
-            bbr.storeEnPasser(meAsEnpasser);
-        }
+        EnPasser enPasser = br.restoreEnPasser(color);
+        boolean enPassant = srcPiece.isPawn() && EnPassant.amIEnpasserTaker(srcSquare, enPasser) && EnPassant.amITakingEnPasser(destSquare, enPasser);
 
         // check for taking
-        boolean take = bbr.anyPieceOn(destSquare);
-        bbr.delete(destSquare);
+        boolean take = enPassant || br.anyPieceOn(dest);
 
         // check for promotion
         String promotion = "";
@@ -92,22 +81,22 @@ public abstract class PGN {
             promotion = "=" + Piece.getShortName(promotionType, srcPiece.getFile());
         }
 
-        // calculate any annotation like + for check, # for checkmate
-        String annotation = Check.mateStatusAfterPromo(srcPiece, destSquare, promotionType, bbr);
+        /*
+         * calculate any annotation like + for check, # for checkmate. the move is made on the BR
+         * in place for that, including taking the en-passer & saving this pawn as an en-passer for
+         * the enemy if it is, so that the other algorithms can correctly work out the PGN calculation
+         * */
+        String annotation = Check.mateStatusAfterPromo(srcPiece, destSquare, promotionType, br);
 
         if (srcPiece.isPawn()) {
-            bbr.recycle();
-
             if (take)
                 return movingPieceName + capture + destSquare + promotion + annotation;
 
             return destSquare + promotion + annotation;
         } else if (srcPiece.isKing()) {
-            bbr.recycle();
             return movingPieceName + capture + destSquare + annotation;
         } else {
-            String uniqueDesignation = UniqueName.getUniqueName(type, color, srcSquare, destSquare, bbr);
-            bbr.recycle();
+            String uniqueDesignation = UniqueName.getUniqueName(type, color, srcSquare, destSquare, br);
 
             if (uniqueDesignation != null)
                 return movingPieceName + uniqueDesignation + capture + destSquare + promotion + annotation;
@@ -1,79 +1,41 @@
 package tanzi.algorithm;
 
+import tanzi.model.Bitboard;
+import tanzi.model.EnPasser;
 import tanzi.model.Piece;
+import tanzi.model.Square;
 import tanzi.staff.BoardRegistry;
-import tanzi.staff.BufferedBR;
-
-import java.util.ArrayList;
 
 public abstract class Pin {
 
     public static boolean isPinned(String from, String to, BoardRegistry br) {
+        return isPinned(Square.of(from), Square.of(to), br);
+    }
 
-        /*
-         * PIN DETECTION ALGORITHM USING BOARD-REGISTRY
-         *
-         * 1. make that move in the board registry (which requires deletion followed by
-         *    addition of the piece into the board registry) & also delete any opposite piece as it
-         *    has to be a taken move
-         * 2. now see the move from the king's prospective to find whether any piece of
-         *    enemy can reach the king's square. so get the list of squares that are aligned with
-         *    the king's square from where possibly an attack can come from
-         * 3. with the squares aligned with the king, try to see if any piece from enemy can reach
-         *    the king's square. if so, then it must be a pin thus the move can't be played
-         * 4. if it is pin then we return null for the list of valid moves for the piece
-         * */
-
-        // get a buffered copy of the BR
-        BufferedBR bufferedBR = br.copy();
-
-        // find the king's position of color of the piece on the srcSquare
-        Piece srcPiece = bufferedBR.piece(from);
-        Piece kingPiece = bufferedBR.piece(Piece.KING, srcPiece.color);
-
-        // step 1 - first make that destination move in the board registry TEMPORARILY
-        bufferedBR.delete(to);
-        bufferedBR.delete(srcPiece.currentSquare());
-        srcPiece.setCurrentSquare(to);
-        bufferedBR.add(srcPiece);
-
-        /*
-         * now see from the king's prospective whether any piece of enemy can reach the king's square
-         *
-         * get the list of squares that are aligned with the king's square where possibly an attack
-         * can come from
-         * */
-
-        // step 2, 3
-        ArrayList<String> squaresAlignedWithKing = bufferedBR.getOSSquare(srcPiece.color);
-
-        /*
-         * with the squares that are aligned with the king's square, try to see ANY PIECE OF ENEMY
-         * can reach the king's square. if so, then it must be a pin thus the move can't be played
-         * */
-
-        boolean pin = false;
-        for (String alignedSquare : squaresAlignedWithKing) {
-            Piece piece = bufferedBR.piece(alignedSquare);
-
-            // empty square where there is no piece so ignore it but go ahead
-            if (piece == null) continue;
-
-            // it is from own army then it is never going to attack so ignore it too
-            if (piece.color == srcPiece.color) continue;
-
-            // got an enemy piece, let's see whether it can attack the opposite king
-            if (Arbiter.pieceCanGo(piece.currentSquare(), kingPiece.currentSquare(), false, bufferedBR)) {
-                pin = true;
-                break;
-            }
+    /**
+     * Tells whether the move of the piece, other than the king, would leave its king attacked. It is
+     * so when the piece is pinned and leaves the ray of the pinner, or when the king is in check and
+     * the move neither takes the checker nor blocks the check.
+     * <p>
+     * The pins & checks are calculated once for the position by the BR, so this is a mask test.
+     * Only an en-passant capture is checked by the occupancy of the board after the move, as it
+     * removes a pawn which is not on the destination square.
+     */
+    public static boolean isPinned(int from, int to, BoardRegistry br) {
+        Piece srcPiece = br.piece(from);
+        int color = srcPiece.color;
+
+        EnPasser enPasser = br.restoreEnPasser(color);
+        if (srcPiece.isPawn() && EnPassant.amIEnpasserTaker(from, enPasser) && to == Square.of(enPasser.intermediateSquare)) {
+            long king = br.bitboard(Piece.KING, color);
+            if (king == Bitboard.EMPTY) return false;
+
+            long passer = Bitboard.bit(Square.of(enPasser.nowSquare));
+            long occupiedAfter = (br.occupancy() ^ Bitboard.bit(from) ^ passer) | Bitboard.bit(to);
+            return MoveGenerator.attacked(Bitboard.first(king), color, occupiedAfter, passer, br);
         }
 
-        // recycle the Buffered BR
-        bufferedBR.recycle();
-
-        // if it is pin then we return null for the list of valid moves for the piece
-        return pin;
+        return !Bitboard.has(br.checkInfo(color).allowed(from), to);
     }
 
 }
@@ -1,6 +1,6 @@
 package tanzi.algorithm;
 
-import tanzi.model.OctalSquare;
+import tanzi.model.Bitboard;
 import tanzi.model.Piece;
 import tanzi.model.Square;
 import tanzi.staff.BoardRegistry;
@@ -16,11 +16,8 @@ public abstract class Sacrifice {
         Piece attacked = br.piece(attackedSquare);
         Piece attacker = br.piece(attackerSquare);
 
-        // get the OS of the attacker
-        OctalSquare attackerOctalSquareList = new OctalSquare(attacker.currentSquare());
-
         // squares between the attacker and attacked piece
-        ArrayList<String> filteredKAS = attackerOctalSquareList.getFilteredKAS(attacked.currentSquare());
+        ArrayList<String> filteredKAS = getFilteredKAS(Square.of(attackerSquare), Square.of(attackedSquare));
         if (filteredKAS == null) return false;
 
         if (!canPutPieceInBetween(attackedSquare, attackerSquare)) return false;
@@ -30,8 +27,8 @@ public abstract class Sacrifice {
             if (br.anyPieceOn(square)) continue;
 
             // find whether a knight can become a hero
-            int numOfKnight = GeometryEngineer.possibleKnightTo(square, attacked.color, br).size();
-            if (numOfKnight > 0) {
+            long knightSquares = GeometryEngineer.possibleKnightTo(Square.of(square), attacked.color, br);
+            if (knightSquares != Bitboard.EMPTY) {
                 ArrayList<String> knights = Arbiter.whoCanGo(square, attacked.color, true, br);
                 if (Sacrifice.isKingSafeBySac(attackedSquare, knights, br)) return true;
             }
@@ -98,6 +95,27 @@ public abstract class Sacrifice {
         return result;
     }
 
+    /*
+     * the squares of the attacker's OS segment where the attacked square fits in. the squares are
+     * listed from the attacked square back towards the attacker first, then from the attacked
+     * square away to the edge of the board. it returns null if two squares are not aligned.
+     * */
+    private static ArrayList<String> getFilteredKAS(int attackerSquare, int attackedSquare) {
+        int direction = Square.direction(attackerSquare, attackedSquare);
+        if (direction == Square.NONE) return null;
+
+        ArrayList<String> squares = new ArrayList<>();
+
+        int backward = Square.opposite(direction);
+        for (int square = Square.step(attackedSquare, backward); square != attackerSquare; square = Square.step(square, backward))
+            squares.add(Square.name(square));
+
+        for (int square = Square.step(attackedSquare, direction); square != Square.NONE; square = Square.step(square, direction))
+            squares.add(Square.name(square));
+
+        return squares;
+    }
+
     // for sacrificing, we need to find out whether there is a square in between the attacker
     // and the under-attacked piece. if so then we know for sure that we can sacrifice a piece.
     // this method tries to find out the difference between two square a by both file & rank and
@@ -132,23 +150,21 @@ public abstract class Sacrifice {
         }
         if (kingSquare == null) return false;
 
+        int sacrificeSquareIndex = Square.of(sacrificeSquare);
+
         boolean sacrifice = false;
         for (String square : sacrificerSquareList) {
-            BufferedBR bufferedBR = br.copy();
-
-            // delete enemy piece if any
-            bufferedBR.delete(sacrificeSquare);
-
-            // sacrifice the piece
-            bufferedBR.movePiece(square, sacrificeSquare);
+            // sacrifice the piece, taking down the enemy piece if any
+            int mark = br.makeMove(Square.of(square), sacrificeSquareIndex, -1);
 
             // now let's see whether we have found a real sacrifice
-            if (Arbiter.amISafe(sacrificeArmyColor, kingSquare, bufferedBR)) {
-                sacrifice = true;
-                bufferedBR.recycle();
-                break;
+            try {
+                sacrifice = Arbiter.amISafe(sacrificeArmyColor, kingSquare, br);
+            } finally {
+                br.unmakeMove(mark);
             }
-            bufferedBR.recycle();
+
+            if (sacrifice) break;
         }
 
         return sacrifice;
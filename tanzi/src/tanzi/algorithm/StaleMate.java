@@ -3,8 +3,6 @@ package tanzi.algorithm;
 import tanzi.model.Piece;
 import tanzi.staff.BoardRegistry;
 
-import java.util.ArrayList;
-
 public abstract class StaleMate {
 
     /**
@@ -41,21 +39,8 @@ public abstract class StaleMate {
             return br.pieceOf(Piece.BISHOP).size() == 1 || br.pieceOf(Piece.KNIGHT).size() == 1;
         }
 
-        // Get the squares of the army for which we are checking whether it is stalemate or not
-        ArrayList<String> squaresOfArmy = br.squaresOfArmy(nextColor);
-
-        // After getting all the pieces of the army, let's check for each piece whether they can
-        // make move regarding pic check. If any of them can do, then it's not a stalemate yet.
-        for (String square : squaresOfArmy) {
-            Piece piece = br.piece(square);
-
-            ArrayList<String> pieceSquares = GeometryEngineer.validSquare(piece.type, piece.color, piece.currentSquare(), true, br);
-            for (String destSquare : pieceSquares) {
-                if (Arbiter.pieceCanGo(piece.currentSquare(), destSquare, true, br)) return false;
-            }
-        }
-
-        return true;
+        // If any piece of the army can make a legal move, then it's not a stalemate yet.
+        return !MoveGenerator.hasLegalMove(nextColor, br);
     }
 
 }
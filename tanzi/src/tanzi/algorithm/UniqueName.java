@@ -1,11 +1,10 @@
 package tanzi.algorithm;
 
+import tanzi.model.Bitboard;
 import tanzi.model.Piece;
+import tanzi.model.Square;
 import tanzi.staff.BoardRegistry;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import static tanzi.algorithm.GeometryEngineer.BY_FILE;
 import static tanzi.algorithm.GeometryEngineer.BY_RANK;
 
@@ -31,7 +30,7 @@ import static tanzi.algorithm.GeometryEngineer.BY_RANK;
  * <li>possibleDiagonalTo(for queen and bishop)</li>
  * <li>possibleKnightTo</li>
  * <li>getUnique(for what is unique in square name. is it file or rank?)</li>
- * <li>countAlong(how many pieces of specified type along a specified side/direction)</li>
+ * <li>file & rank masks of Bitboard(how many pieces of specified type along a specified side/direction)</li>
  * <li>associationSideways(how two squares linked with each other. by file or rank?)</li>
  * </ul>
  */
@@ -65,48 +64,49 @@ public abstract class UniqueName {
      * for further clarification, look for BIDIRECTIONAL algorithm within this project.
      */
     private static String getBidirectionalUniqueName(int type, int color, String srcSquare, String destSquare, BoardRegistry br) {
-        ArrayList<String> squareList = null;
+        int dest = Square.of(destSquare);
+        int src = Square.of(srcSquare);
+
+        long squares;
 
-        // get list of squares containing the same type of piece that can make move to destSquare
+        // get squares containing the same type of piece that can make move to destSquare
 
         if (type == Piece.QUEEN) {
             /* for queen, we know that, it can play like rook & bishop, so calculate possible queen
              * coming squares for both sideways & diagonal squares
              * */
-            squareList = GeometryEngineer.possibleSidewaysTo(destSquare, Piece.QUEEN, color, br);
-            squareList.addAll(GeometryEngineer.possibleDiagonalTo(destSquare, Piece.QUEEN, color, br));
+            squares = GeometryEngineer.possibleSidewaysTo(dest, Piece.QUEEN, color, br);
+            squares |= GeometryEngineer.possibleDiagonalTo(dest, Piece.QUEEN, color, br);
+        } else if (type == Piece.BISHOP) {
+            squares = GeometryEngineer.possibleDiagonalTo(dest, type, color, br);
+        } else if (type == Piece.KNIGHT) {
+            squares = GeometryEngineer.possibleKnightTo(dest, color, br);
+        } else {
+            return null;
         }
 
-        if (type == Piece.BISHOP)
-            squareList = GeometryEngineer.possibleDiagonalTo(destSquare, type, color, br);
-
-        if (type == Piece.KNIGHT)
-            squareList = GeometryEngineer.possibleKnightTo(destSquare, color, br);
-
-        if (squareList == null) return null;
+        squares = discardPinnedPiece(dest, squares, br);
 
-        discardPinnedPiece(destSquare, squareList, br);
-
-        squareList.remove(srcSquare);
+        squares &= ~Bitboard.bit(src);
 
         // No unique designation is required
-        if (squareList.size() == 0)
+        if (squares == Bitboard.EMPTY)
             return "";
 
         // unique name can be either the file name or the rank of the source square
-        if (squareList.size() == 1)
-            return GeometryEngineer.getUnique(srcSquare, squareList.get(0));
+        if (Bitboard.count(squares) == 1)
+            return GeometryEngineer.getUnique(srcSquare, Square.name(Bitboard.first(squares)));
 
         /*
          * we need to test how pieces from different sides of different numbers can prefer which
          * unique designation such as file, rank or exclusive square name.
          * */
 
-        char file = srcSquare.charAt(0);
-        char rank = srcSquare.charAt(1);
+        char file = Square.fileAsChar(src);
+        int rank = Square.rankAsInt(src);
 
-        int countAlongFile = GeometryEngineer.countAlong(BY_FILE, file, squareList);
-        int countAlongRank = GeometryEngineer.countAlong(BY_RANK, rank, squareList);
+        int countAlongFile = Bitboard.count(squares & Bitboard.fileMask(Square.fileIndex(src)));
+        int countAlongRank = Bitboard.count(squares & Bitboard.rankMask(rank));
 
         /*
          * the order of checking for evaluating count variables for file and rank is important. by
@@ -122,14 +122,10 @@ public abstract class UniqueName {
 
         // file has more than one pieces that can make move; so rank is unique here
         if (countAlongFile >= 1)
-            return String.valueOf(Character.getNumericValue(rank));
+            return String.valueOf(rank);
 
         // rank has more than one pieces that can make move; so file is unique here
-        if (countAlongRank >= 1)
-            return String.valueOf(file);
-
-        // for unresolved unique name
-        return null;
+        return String.valueOf(file);
     }
 
     /**
@@ -153,20 +149,21 @@ public abstract class UniqueName {
          * */
 
         // step 1
-        ArrayList<String> possiblePieceSquare = GeometryEngineer.possibleSidewaysTo(destSquare, type, color, br);
+        int dest = Square.of(destSquare);
+        long possiblePieceSquare = GeometryEngineer.possibleSidewaysTo(dest, type, color, br);
 
-        discardPinnedPiece(destSquare, possiblePieceSquare, br);
+        possiblePieceSquare = discardPinnedPiece(dest, possiblePieceSquare, br);
 
         // step 2
-        possiblePieceSquare.remove(srcSquare);
+        possiblePieceSquare &= ~Bitboard.bit(Square.of(srcSquare));
 
         // step 3; No unique designation is required
-        if (possiblePieceSquare.size() == 0)
+        if (possiblePieceSquare == Bitboard.EMPTY)
             return "";
 
         // step 4
-        if (possiblePieceSquare.size() == 1)
-            return GeometryEngineer.getUnique(srcSquare, possiblePieceSquare.get(0));
+        if (Bitboard.count(possiblePieceSquare) == 1)
+            return GeometryEngineer.getUnique(srcSquare, Square.name(Bitboard.first(possiblePieceSquare)));
 
         // step 5; find the association between source square & destination square
         int associationDirection = GeometryEngineer.associationSideways(srcSquare, destSquare);
@@ -177,14 +174,16 @@ public abstract class UniqueName {
         return String.valueOf(srcSquare.charAt(uniqueDesignationIndex));
     }
 
-    // for a list of squares of potential pieces , they can be pinned or have some
-    // way of restriction to make the move. let's check for it. we will discard those
-    // who are pinned.
-    private static void discardPinnedPiece(String destSquare, List<String> possibleSquareListToDest, BoardRegistry br) {
-        ArrayList<String> bufferedList = new ArrayList<>(possibleSquareListToDest);
-        for (String square : bufferedList)
+    // for squares of potential pieces , they can be pinned or have some way of restriction to
+    // make the move. let's check for it. we will discard those who are pinned.
+    private static long discardPinnedPiece(int destSquare, long possibleSquareToDest, BoardRegistry br) {
+        long squares = possibleSquareToDest;
+        for (long bb = possibleSquareToDest; bb != 0; bb &= bb - 1) {
+            int square = Bitboard.first(bb);
             if (!Arbiter.pieceCanGo(square, destSquare, true, br))
-                possibleSquareListToDest.remove(square);
+                squares &= ~Bitboard.bit(square);
+        }
+        return squares;
     }
 
 }
@@ -33,7 +33,8 @@ public class Game {
         CHECKMATE,
         GAME_CONTINUES,
         EXCEPTION,
-        PGN_BEGINNING, PGN_END, STALEMATE
+        PGN_BEGINNING, PGN_END, STALEMATE,
+        THREEFOLD_REPETITION, FIFTY_MOVE_RULE
     }
 
     private State gameState;
@@ -59,9 +60,18 @@ public class Game {
     private BoardOrientationListener orientationListener;
 
     public Game(String moves, MoveRepo.Type repoType, double boardSize) {
+        this(null, moves, repoType, boardSize);
+    }
+
+    /**
+     * Same as above but the game starts from the position written in FEN, null FEN being the
+     * initial position. It throws IllegalArgumentException for an invalid FEN.
+     */
+    public Game(@Nullable String fen, String moves, MoveRepo.Type repoType, double boardSize) {
         br = new BoardRegistry();
+        if (fen != null) br.__clearAndSetup(fen);
 
-        repo = MoveRepo.of(repoType, moves);
+        repo = MoveRepo.of(repoType, fen, moves);
         historian = new BRHistorian(repo, br);
 
         gameSound = new GameSound(null);
@@ -131,9 +141,9 @@ public class Game {
      * index.
      * <p>
      * It internally calls {@link BRHistorian#goTo(int)} to navigate to the index which
-     * rollbacks on any failure to the previous index. The BR reflection is paused if it
-     * can detect that there are going to be more than one change in the BR with this move
-     * navigation.
+     * rollbacks on any failure to the previous index. The changes of the navigation are
+     * made in a batch on the BR, so the BR change listener is told only about the squares
+     * which differ from where the game was, however many moves it goes across.
      * <p>
      * This also take sound playing and last move change highlighting into account.
      * Appropriate listeners are notified based on the configuration and method outcome.
@@ -160,28 +170,20 @@ public class Game {
 
         // here we know that we need to navigate
 
-        // calculate the num of move required to meet the index
-        int diff = repoAtIndex - index;
-
-
         // handle the exception if it would return any, set proper game state then rethrow it
         MoveMeta meta = null;
+        br.beginChanges();
         try {
-            // pause the BR change reflection if we are going to make a series of changes
-            boolean resumeAndReflect = Math.abs(diff) > 1;
-            if (resumeAndReflect) br.pauseReflection();
-
             meta = historian.goTo(index) ? repo.metaAt(index) : null;
             if (meta == null) throw new Exception("Failed to make move for index " + index);
             updateGameStatus(meta);
-
-            if (resumeAndReflect) br.resumeAndReflect();
         } catch (Exception e) {
             exception = e;
             gameState = State.EXCEPTION;
             if (stateListener != null) stateListener.onGameStateChange(gameState);
-
-            br.resumeReflection();
+        } finally {
+            // the listener gets the net change of the navigation at once
+            br.endChanges();
         }
 
         playGameSound(meta);
@@ -229,7 +231,14 @@ public class Game {
         BRHistory history = MoveMaker.move(meta, br);
 
         if (history == null) return false;
-        history.saveAndExecute(historian, br);
+
+        // a castle or an en-passant changes many squares, which the listener gets at once
+        br.beginChanges();
+        try {
+            history.saveAndExecute(historian, br);
+        } finally {
+            br.endChanges();
+        }
 
         updateGameStatus(meta);
         playGameSound(meta);
@@ -276,8 +285,17 @@ public class Game {
      * On successful reloading, it returns true, false otherwise.
      */
     public boolean reload(String moves, MoveRepo.Type repoType) {
-        br.__clearAndSetup();
-        return repo.reload(moves, repoType);
+        return reload(null, moves, repoType);
+    }
+
+    /**
+     * Same as above but the game is reset to the position written in FEN instead of the initial
+     * position, null FEN being the initial position.
+     */
+    public boolean reload(@Nullable String fen, String moves, MoveRepo.Type repoType) {
+        if (fen == null) br.__clearAndSetup();
+        else br.__clearAndSetup(fen);
+        return repo.reload(fen, moves, repoType);
     }
 
     /**
@@ -383,7 +401,15 @@ public class Game {
      * @return It returns the {@link Game.Builder} with the moves.
      */
     public static Builder ofMoves(@Nullable String moves) {
-        return new Builder(moves);
+        return new Builder(null, moves);
+    }
+
+    /**
+     * Same as above but the game starts from the position written in FEN. The moves are played
+     * from that position and can be null.
+     */
+    public static Builder ofFEN(String fen, @Nullable String moves) {
+        return new Builder(fen, moves);
     }
 
     public State state() {
@@ -438,6 +464,8 @@ public class Game {
         int repoIndex = repo.currentIndex();
 
         if (meta.checkMate) gameState = State.CHECKMATE;
+        else if (historian.isThreefoldRepetition()) gameState = State.THREEFOLD_REPETITION;
+        else if (historian.isFiftyMoveRule()) gameState = State.FIFTY_MOVE_RULE;
         else if (repoIndex == -1) gameState = State.PGN_BEGINNING;
         else if (repoIndex == repo.moveCount() - 1) gameState = State.PGN_END;
         else if (StaleMate.isStaleMate(repo.whoseTurn(), br)) gameState = State.STALEMATE;
@@ -455,6 +483,7 @@ public class Game {
      * such as game state listener, BRChangeListener, SoundPlayer etc.
      */
     public static class Builder {
+        private final String fen;
         private final String moves;
         private MoveRepo.Type type = MoveRepo.Type.REPO_GROWING;
         private StateListener stateListener;
@@ -464,7 +493,8 @@ public class Game {
         private BoardOrientationListener boardOrientationListener;
         private Board.Orientation orientation;
 
-        private Builder(String moves) {
+        private Builder(String fen, String moves) {
+            this.fen = fen;
             this.moves = moves;
         }
 
@@ -533,7 +563,7 @@ public class Game {
          * when the game is going to allow player interactions via GUI.
          */
         public Game create(double boardSize) {
-            Game game = new Game(moves, type, boardSize);
+            Game game = new Game(fen, moves, type, boardSize);
             game.setBoardOrientation(orientation);
             game.setBoardOrientationListener(boardOrientationListener);
             game.setBRChangeListener(brChangeListener);
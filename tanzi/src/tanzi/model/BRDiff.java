@@ -0,0 +1,126 @@
+package tanzi.model;
+
+import tanzi.pool.PiecePool;
+
+import java.util.Arrays;
+
+/**
+ * The net change of the pieces on a BR over a batch of changes, such as a move played or a navigation
+ * across many moves. A square lifted & placed many times in the batch is only in the diff if the piece
+ * on it at the end is not the same as at the start, so a listener only updates what has actually changed.
+ * <p>
+ * Each changed square is an int in the diff:
+ * <pre>
+ *     bits 0 - 5      the square
+ *     bits 6 - 10     the piece before the batch, see below
+ *     bits 11 - 15    the piece after the batch
+ * </pre>
+ * A piece is written in 5 bits as its type (0 - 2), its color (3) and a bit telling there is a piece (4),
+ * so 0 is an empty square.
+ * <p>
+ * The BR keeps one diff and fills it up again for the next batch, so a listener must not keep it after
+ * the call it gets the diff in.
+ */
+
+public class BRDiff {
+
+    private static final int PIECE = 1 << 4;
+
+    // the pieces of the touched squares before the batch
+    private final int[] before = new int[64];
+    private long touched;
+
+    private final int[] changes = new int[64];
+    private int size;
+
+    /**
+     * Number of the squares changed.
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * The change at the index, encoded as above.
+     */
+    public int get(int i) {
+        return changes[i];
+    }
+
+    public int square(int i) {
+        return changes[i] & 63;
+    }
+
+    /**
+     * A piece from the pool which was on the square of the change before the batch, null if the square
+     * was empty. The piece should be recycled after consumption.
+     */
+    public Piece before(int i) {
+        return piece((changes[i] >>> 6) & 31, square(i));
+    }
+
+    /**
+     * Same as above but for the piece on the square after the batch.
+     */
+    public Piece after(int i) {
+        return piece((changes[i] >>> 11) & 31, square(i));
+    }
+
+    /**
+     * Starts a new batch, dropping the changes of the last one.
+     */
+    public void clear() {
+        touched = 0L;
+        size = 0;
+    }
+
+    /**
+     * Remembers the piece on the square before the batch if the square is touched for the first time
+     * in the batch. The BR calls it before it changes the square.
+     */
+    public void touch(int square, Piece piece) {
+        long bit = Bitboard.bit(square);
+        if ((touched & bit) != 0) return;
+
+        touched |= bit;
+        before[square] = encode(piece);
+    }
+
+    /**
+     * Ends the batch by comparing the touched squares with the board, keeping the squares of which the
+     * piece has changed.
+     */
+    public void collect(Piece[] board) {
+        size = 0;
+        for (long bb = touched; bb != 0; bb &= bb - 1) {
+            int square = Bitboard.first(bb);
+            int after = encode(board[square]);
+            if (after != before[square]) changes[size++] = square | (before[square] << 6) | (after << 11);
+        }
+        touched = 0L;
+    }
+
+    private static int encode(Piece piece) {
+        return piece == null ? 0 : piece.type | (piece.color << 3) | PIECE;
+    }
+
+    private static Piece piece(int code, int square) {
+        if ((code & PIECE) == 0) return null;
+
+        Piece piece = PiecePool.get();
+        piece.type = code & 7;
+        piece.color = (code >>> 3) & 1;
+        piece.setCurrentSquare(Square.name(square));
+        return piece;
+    }
+
+    @Override
+    public String toString() {
+        return "BRDiff" + Arrays.toString(Arrays.copyOf(changes, size));
+    }
+
+}
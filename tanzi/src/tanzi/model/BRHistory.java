@@ -21,10 +21,20 @@ public class BRHistory {
 
     BRChange undo, redo;
 
+    // the army making the move, which is the first piece the redo change puts on the board
+    int color;
+
+    // the move counters of the BR before the move, saved on redo to put them back on undo
+    int halfMoveClock, fullMoveNumber = 1;
+
+    // zobrist key of the position before the move, saved on redo for finding the repeated positions
+    long hash;
+
     public BRHistory(int moveIndex, BRChange undo, BRChange redo) {
         this.moveIndex = moveIndex;
         this.undo = undo;
         this.redo = redo;
+        color = redo == null || redo.pieces.isEmpty() ? PGN.indexToColor(moveIndex) : redo.pieces.get(0).color;
     }
 
     /**
@@ -33,7 +43,7 @@ public class BRHistory {
      * write and reflects all the associated changes with this history to the BR.
      */
     public void undo(BoardRegistry br) {
-        reflectChange(undo, br);
+        reflectChange(undo, br, false);
     }
 
     /**
@@ -43,7 +53,7 @@ public class BRHistory {
      * king OS squares etc. are carried out by reflectChange() method properly.
      */
     public void redo(BoardRegistry br) {
-        reflectChange(redo, br);
+        reflectChange(redo, br, true);
     }
 
     public int moveIndex() {
@@ -61,13 +71,36 @@ public class BRHistory {
     /**
      * The history change can be reflected into the specified BR. This method
      * either undo/redo a history change as specified by the argument into the BR.
-     * It firstly reflects the change object, updates the king OS squares, and clears
-     * en-passer object for the color who this history for.
+     * It firstly reflects the change object, updates the king OS squares, sets the
+     * en-passer objects, the army to move & the move counters as they are after the
+     * move on redo or as they were before the move on undo.
      */
-    private void reflectChange(BRChange change, BoardRegistry br) {
+    private void reflectChange(BRChange change, BoardRegistry br, boolean redo) {
+        int enemyColor = Piece.getOppositeColor(color);
+        if (redo) hash = br.hash();
+
         BRHistory.changeObjToBR(change, br);
         BRHistory.updateKingOSSquare(change, br);
-        br.clearEnPasserFor(PGN.indexToColor(moveIndex));
+
+        // on redo, the en-passer the army could take is gone; on undo, the en-passer the move
+        // created is gone. the change object holds the en-passer to put back on the BR.
+        br.clearEnPasserFor(redo ? color : enemyColor);
+        br.storeEnPasser(change.enPasser);
+
+        br.setSideToMove(redo ? enemyColor : color);
+
+        if (redo) {
+            halfMoveClock = br.halfMoveClock();
+            fullMoveNumber = br.fullMoveNumber();
+
+            // a pawn move or a capture, where more pieces leave the board than land on it, resets the clock
+            boolean pawnMove = !undo.pieces.isEmpty() && undo.pieces.get(0).type == Piece.PAWN;
+            boolean capture = this.redo.squares.size() > this.redo.pieces.size();
+            int fullMove = color == Piece.COLOR_BLACK ? fullMoveNumber + 1 : fullMoveNumber;
+            br.setMoveCounters(pawnMove || capture ? 0 : halfMoveClock + 1, fullMove);
+        } else {
+            br.setMoveCounters(halfMoveClock, fullMoveNumber);
+        }
     }
 
     /**
@@ -77,9 +110,6 @@ public class BRHistory {
     private static void changeObjToBR(BRChange brChange, BoardRegistry br) {
         for (String s : brChange.squares) br.delete(s);
         for (Piece p : brChange.pieces) br.add(p);
-
-        // also set any en-passer to the br associated with the change
-        br.storeEnPasser(brChange.enPasser);
     }
 
     /**
@@ -107,9 +137,10 @@ public class BRHistory {
      * change and does it to the BR.
      */
     public void saveAndExecute(BRHistorian brHistorian, BoardRegistry br) {
+        // executed first so that the saved history has the move counters of the BR before the move
+        redo(br);
         if (brHistorian != null)
             brHistorian.saveChange(this);
-        redo(br);
     }
 
     /**
@@ -177,10 +208,9 @@ public class BRHistory {
         }
 
         /**
-         * When an en-passant move is undone, then the en-passer object no longer remains valid. This
-         * method allows a way to indicate that so that after undoing the en-passant move, the MoveMaker
-         * can set null as en-passer so that on reflecting this BRHistory object can set null to en-passer
-         * for the enemy thus undoing the change properly.
+         * Any enemy en-passer the army could take before the move is gone after the move. This
+         * method allows a way to keep that en-passer so that after undoing the move, the BR gets it
+         * back and the army can take it again as it could before the move.
          */
         public Builder enPasserToUndo(EnPasser enPasser) {
             undo.enPasser = enPasser;
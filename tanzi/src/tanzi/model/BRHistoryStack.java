@@ -0,0 +1,211 @@
+package tanzi.model;
+
+import tanzi.staff.BoardRegistry;
+
+import java.util.Arrays;
+
+/**
+ * The histories of the moves of a game packed into an int array by their move indexes, for the
+ * BRHistorian. A BRHistory holds two BRChange objects with lists of square names & cloned pieces, which
+ * takes hundreds of bytes for a move. Here a move takes a record of a few ints:
+ * <pre>
+ *     int 0     squares to delete on undo & redo, 7 bits each as square + 1 (0 for none),
+ *               and the army making the move in bit 28
+ *     int 1, 2  pieces to put back on undo, packed by {@link Piece#pack()} with bit 17 set
+ *     int 3, 4  pieces to put on redo, the same as above
+ *     int 5     en-passers to store on undo (bits 0 - 9) & redo (bits 10 - 19), see {@link EnPasser#pack(EnPasser)}
+ *     int 6, 7  the half-move clock & the full move number of the BR before the move
+ *     int 8, 9  the low & high bits of the zobrist key of the position before the move
+ * </pre>
+ * The castle rights are kept by the moved state of the packed kings & rooks, the same as the BR knows
+ * them by the pieces on the board.
+ * <p>
+ * A move is undone or redone by unpacking its record into a BRHistory kept for that & reflecting it into
+ * the BR, so only the pieces put on the BR are created.
+ */
+
+public class BRHistoryStack {
+
+    private static final int RECORD = 10;
+
+    private static final int SQUARES = 0;
+    private static final int UNDO_PIECES = 1;
+    private static final int REDO_PIECES = 3;
+    private static final int EN_PASSERS = 5;
+    private static final int HALF_MOVE_CLOCK = 6;
+    private static final int FULL_MOVE_NUMBER = 7;
+    private static final int HASH = 8;
+
+    private static final int MAX_CHANGES = 2;
+    private static final int PIECE = 1 << 17;
+
+    private int[] records = new int[RECORD * 64];
+    private int size;
+
+    // the history the records are unpacked into for undo & redo
+    private final BRHistory scratch = new BRHistory(-1, new BRChange(), new BRChange());
+
+    /**
+     * Number of the moves in the stack, which are the moves from index 0 to size - 1.
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Packs & saves the history by its move index. A history for an index within the stack replaces
+     * the one there, otherwise the index must be the next one after the last move.
+     */
+    public void save(BRHistory history) {
+        int moveIndex = history.moveIndex;
+        if (moveIndex < 0 || moveIndex > size)
+            throw new IllegalArgumentException("Can't save the history of move " + moveIndex + " after " + size + " moves");
+
+        if (moveIndex == size) {
+            if ((size + 1) * RECORD > records.length) records = Arrays.copyOf(records, records.length << 1);
+            size++;
+        }
+
+        int at = moveIndex * RECORD;
+        records[at + SQUARES] = packSquares(history.undo, 0) | packSquares(history.redo, 14) | (history.color << 28);
+        packPieces(history.undo, at + UNDO_PIECES);
+        packPieces(history.redo, at + REDO_PIECES);
+        records[at + EN_PASSERS] = EnPasser.pack(history.undo.enPasser) | (EnPasser.pack(history.redo.enPasser) << 10);
+        records[at + HALF_MOVE_CLOCK] = history.halfMoveClock;
+        records[at + FULL_MOVE_NUMBER] = history.fullMoveNumber;
+        saveHash(at, history.hash);
+    }
+
+    /**
+     * Unpacks the history of the move into a new BRHistory, null if the move is not in the stack.
+     */
+    public BRHistory get(int moveIndex) {
+        if (moveIndex < 0 || moveIndex >= size) return null;
+
+        BRHistory history = new BRHistory(moveIndex, new BRChange(), new BRChange());
+        unpack(moveIndex, history);
+        return history;
+    }
+
+    /**
+     * The zobrist key of the position before the move, which is the position after the move before it.
+     */
+    public long hash(int moveIndex) {
+        if (moveIndex < 0 || moveIndex >= size)
+            throw new IndexOutOfBoundsException("No history for move " + moveIndex + " of " + size + " moves");
+
+        int at = moveIndex * RECORD + HASH;
+        return (records[at] & 0xFFFFFFFFL) | ((long) records[at + 1] << 32);
+    }
+
+    /**
+     * Redoes the move into the BR. The move counters of the BR before the move are saved for undo.
+     */
+    public void redo(int moveIndex, BoardRegistry br) {
+        unpack(moveIndex, scratch);
+        scratch.redo(br);
+
+        int at = moveIndex * RECORD;
+        records[at + HALF_MOVE_CLOCK] = scratch.halfMoveClock;
+        records[at + FULL_MOVE_NUMBER] = scratch.fullMoveNumber;
+        saveHash(at, scratch.hash);
+    }
+
+    /**
+     * Undoes the move from the BR.
+     */
+    public void undo(int moveIndex, BoardRegistry br) {
+        unpack(moveIndex, scratch);
+        scratch.undo(br);
+    }
+
+    /**
+     * Drops the moves from the index to the end of the stack.
+     */
+    public void truncate(int moveIndex) {
+        if (moveIndex >= 0 && moveIndex < size) size = moveIndex;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    private void unpack(int moveIndex, BRHistory history) {
+        if (moveIndex < 0 || moveIndex >= size)
+            throw new IndexOutOfBoundsException("No history for move " + moveIndex + " of " + size + " moves");
+
+        int at = moveIndex * RECORD;
+        int squares = records[at + SQUARES];
+
+        history.moveIndex = moveIndex;
+        history.color = (squares >>> 28) & 1;
+        unpackChange(squares, records[at + EN_PASSERS], at + UNDO_PIECES, history.undo);
+        unpackChange(squares >>> 14, records[at + EN_PASSERS] >>> 10, at + REDO_PIECES, history.redo);
+        history.halfMoveClock = records[at + HALF_MOVE_CLOCK];
+        history.fullMoveNumber = records[at + FULL_MOVE_NUMBER];
+        history.hash = hash(moveIndex);
+    }
+
+    private void saveHash(int at, long hash) {
+        records[at + HASH] = (int) hash;
+        records[at + HASH + 1] = (int) (hash >>> 32);
+    }
+
+    private void unpackChange(int squares, int enPasser, int pieces, BRChange change) {
+        change.squares.clear();
+        for (int i = 0; i < MAX_CHANGES; i++) {
+            int square = (squares >>> (i * 7)) & 127;
+            if (square != 0) change.squares.add(Square.name(square - 1));
+        }
+
+        change.pieces.clear();
+        for (int i = 0; i < MAX_CHANGES; i++) {
+            int piece = records[pieces + i];
+            if ((piece & PIECE) != 0) change.pieces.add(Piece.unpack(piece));
+        }
+
+        change.enPasser = EnPasser.unpack(enPasser);
+    }
+
+    /*
+     * the MoveMaker may list a square or a piece twice for a move such as Nbxd2, which is both a capture
+     * & a move by the unique name. deleting a square twice is the same as once, and a piece can't be put
+     * on a square another piece of the change has just been put on, so only the first of them is packed.
+     * */
+    private static int packSquares(BRChange change, int shift) {
+        int packed = 0, count = 0;
+        for (String name : change.squares) {
+            int square = Square.of(name) + 1;
+            if (square == (packed & 127) || square == ((packed >>> 7) & 127)) continue;
+            if (count == MAX_CHANGES)
+                throw new IllegalArgumentException("Can't pack a change of " + change.squares + " squares");
+
+            packed |= square << (count++ * 7);
+        }
+        return packed << shift;
+    }
+
+    private void packPieces(BRChange change, int at) {
+        int count = 0;
+        records[at] = records[at + 1] = 0;
+
+        for (Piece piece : change.pieces) {
+            int packed = piece.pack() | PIECE;
+            if (sameSquare(records[at], packed) || sameSquare(records[at + 1], packed)) continue;
+            if (count == MAX_CHANGES)
+                throw new IllegalArgumentException("Can't pack a change of " + change.pieces.size() + " pieces");
+
+            records[at + count++] = packed;
+        }
+    }
+
+    // whether both are packed pieces on the same current square
+    private static boolean sameSquare(int packed, int piece) {
+        return (packed & PIECE) != 0 && ((packed ^ piece) & (63 << 4)) == 0;
+    }
+
+}
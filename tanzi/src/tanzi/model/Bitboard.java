@@ -0,0 +1,72 @@
+package tanzi.model;
+
+import java.util.ArrayList;
+
+/**
+ * A bitboard is a 64-bit long where each bit stands for a square of the chess board. The BR keeps
+ * one bitboard for each piece type of each army and a few occupancy bitboards so that questions
+ * like "where are the white knights?" or "is there any piece on f3?" can be answered with bit
+ * operations instead of looking up squares one by one.
+ * <p>
+ * Bits are numbered by little-endian rank-file mapping, that is a1 is the bit 0, b1 is the bit 1,
+ * h1 is the bit 7, a2 is the bit 8 and so on up to h8 which is the bit 63. So the bit index of a
+ * square is exactly its int square of the {@link Square} class.
+ */
+
+public abstract class Bitboard {
+
+    public static final long EMPTY = 0L;
+
+    // masks for the files & the ranks of the board
+    public static final long FILE_A = 0x0101010101010101L;
+    public static final long RANK_1 = 0xFFL;
+
+    private Bitboard() {
+
+    }
+
+    public static long bit(int index) {
+        return 1L << index;
+    }
+
+    public static boolean has(long bitboard, int index) {
+        return (bitboard & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns the lowest set bit index of the bitboard. It returns 64 for an empty bitboard.
+     */
+    public static int first(long bitboard) {
+        return Long.numberOfTrailingZeros(bitboard);
+    }
+
+    public static int count(long bitboard) {
+        return Long.bitCount(bitboard);
+    }
+
+    /**
+     * Returns the mask of the file where file is zero-based, meaning 0 for the "a" file.
+     */
+    public static long fileMask(int file) {
+        return FILE_A << file;
+    }
+
+    /**
+     * Returns the mask of the rank where rank is one-based as it is written on the board.
+     */
+    public static long rankMask(int rank) {
+        return RANK_1 << ((rank - 1) << 3);
+    }
+
+    /**
+     * Returns the square names of the bitboard in the order of the bits, from a1 to h8. This is
+     * for the callers which still deal with the squares by their names.
+     */
+    public static ArrayList<String> toSquareList(long bitboard) {
+        ArrayList<String> squares = new ArrayList<>(Long.bitCount(bitboard));
+        for (long bb = bitboard; bb != 0; bb &= bb - 1)
+            squares.add(Square.name(Long.numberOfTrailingZeros(bb)));
+        return squares;
+    }
+
+}
@@ -0,0 +1,118 @@
+package tanzi.model;
+
+import tanzi.algorithm.AttackTable;
+import tanzi.algorithm.SlidingAttack;
+import tanzi.staff.BoardRegistry;
+
+/**
+ * The pins & the checks on the king of an army for a position of the BR. Once they are known, whether
+ * a piece other than the king can make a move without leaving its king attacked is just a mask test
+ * by {@link #allowed(int)}, instead of making the move and looking around the king each time.
+ * <ul>
+ *     <li>checkers are the enemy pieces attacking the king</li>
+ *     <li>the check mask holds the squares where a move can stop the check, which are the squares
+ *     between the king & the checker and the checker itself. it is all the squares when there is no
+ *     check and no square at all for a double check as only the king can move then</li>
+ *     <li>a pinned piece can only move along the ray from the king to its pinner, the pinner included</li>
+ * </ul>
+ * The BR calculates this once for a position and keeps it until any piece is added or deleted. Get
+ * it by {@link BoardRegistry#checkInfo(int)}.
+ * <p>
+ * Note: an en-passant capture removes two pawns from the board, which can expose the king along the
+ * rank. The masks can't tell that, so en-passant moves must be checked separately.
+ */
+
+public class CheckInfo {
+
+    private long checkers;
+    private long checkMask;
+    private long pinned;
+    private final long[] pinRay = new long[64];
+
+    public void calculate(int color, BoardRegistry br) {
+        int enemyColor = Piece.getOppositeColor(color);
+        long own = br.armyBitboard(color);
+        long occupied = br.occupancy();
+
+        checkers = Bitboard.EMPTY;
+        checkMask = ~Bitboard.EMPTY;
+        pinned = Bitboard.EMPTY;
+
+        long kingBoard = br.bitboard(Piece.KING, color);
+        if (kingBoard == Bitboard.EMPTY) return;
+        int king = Bitboard.first(kingBoard);
+
+        long queens = br.bitboard(Piece.QUEEN, enemyColor);
+        long diagonal = br.bitboard(Piece.BISHOP, enemyColor) | queens;
+        long straight = br.bitboard(Piece.ROOK, enemyColor) | queens;
+
+        long diagonalAttack = SlidingAttack.bishop(king, occupied);
+        long straightAttack = SlidingAttack.rook(king, occupied);
+
+        checkers = (AttackTable.knight(king) & br.bitboard(Piece.KNIGHT, enemyColor))
+                | (AttackTable.pawn(color, king) & br.bitboard(Piece.PAWN, enemyColor))
+                | (diagonalAttack & diagonal)
+                | (straightAttack & straight);
+
+        if (checkers != Bitboard.EMPTY) {
+            if (Bitboard.count(checkers) > 1) {
+                checkMask = Bitboard.EMPTY;
+            } else {
+                int checker = Bitboard.first(checkers);
+                checkMask = between(king, checker) | checkers;
+            }
+        }
+
+        /*
+         * looking from the king through the first own piece along each direction gives the enemy
+         * sliders behind them. such a slider pins the own piece in between.
+         * */
+        long diagonalPinners = SlidingAttack.bishop(king, occupied ^ (diagonalAttack & own)) & diagonal & ~diagonalAttack;
+        long straightPinners = SlidingAttack.rook(king, occupied ^ (straightAttack & own)) & straight & ~straightAttack;
+
+        for (long bb = diagonalPinners | straightPinners; bb != 0; bb &= bb - 1) {
+            int pinner = Bitboard.first(bb);
+            long ray = between(king, pinner);
+            int square = Bitboard.first(ray & own);
+            pinned |= Bitboard.bit(square);
+            pinRay[square] = ray | Bitboard.bit(pinner);
+        }
+    }
+
+    // the squares strictly between two squares on the same file, rank or diagonal
+    private static long between(int a, int b) {
+        long bitA = Bitboard.bit(a), bitB = Bitboard.bit(b);
+        if (Square.direction(a, b) == Square.NONE) return Bitboard.EMPTY;
+
+        boolean straight = Square.fileIndex(a) == Square.fileIndex(b) || Square.rankAsInt(a) == Square.rankAsInt(b);
+        if (straight) return SlidingAttack.rook(a, bitB) & SlidingAttack.rook(b, bitA);
+        return SlidingAttack.bishop(a, bitB) & SlidingAttack.bishop(b, bitA);
+    }
+
+    public boolean inCheck() {
+        return checkers != Bitboard.EMPTY;
+    }
+
+    public long checkers() {
+        return checkers;
+    }
+
+    public long checkMask() {
+        return checkMask;
+    }
+
+    public long pinned() {
+        return pinned;
+    }
+
+    /**
+     * Returns the squares a piece other than the king on the square can go to without leaving its
+     * king attacked, as far as pins & checks are concerned. It is to be masked with the squares the
+     * piece can go to by chess geometry.
+     */
+    public long allowed(int square) {
+        if (Bitboard.has(pinned, square)) return pinRay[square] & checkMask;
+        return checkMask;
+    }
+
+}
@@ -10,6 +10,8 @@ import java.util.Arrays;
 
 public class EnPasser {
 
+    private static final int PACKED = 1 << 9;
+
     // the opposite army who should be able to take down this enPassant
     public int takerColor = -1;
 
@@ -31,4 +33,51 @@ public class EnPasser {
         return enPasser;
     }
 
+    /**
+     * Packs the en-passer into 10 bits as its intermediate square (0 - 5), whether the pawns on the
+     * file after (6) & before (7) the passer can take it, the taker color (8) and a bit telling there
+     * is an en-passer (9), so that the history & the snapshots of a BR don't keep the objects. The
+     * other squares of the en-passer follow from these. A null en-passer is packed as 0.
+     */
+    public static int pack(EnPasser enPasser) {
+        if (enPasser == null) return 0;
+
+        int nowSquare = Square.of(enPasser.nowSquare);
+        int takers = 0;
+        for (String taker : enPasser.taker) {
+            int fileStep = Square.fileIndex(Square.of(taker)) - Square.fileIndex(nowSquare);
+            takers |= fileStep > 0 ? 1 : 2;
+        }
+
+        return Square.of(enPasser.intermediateSquare) | (takers << 6) | (enPasser.takerColor << 8) | PACKED;
+    }
+
+    /**
+     * Creates the en-passer from the bits {@link #pack(EnPasser)} returned, null for 0.
+     */
+    public static EnPasser unpack(int packed) {
+        if ((packed & PACKED) == 0) return null;
+
+        int intermediateSquare = packed & 63;
+        int takerColor = (packed >>> 8) & 1;
+
+        // the passer moves up the board if black takes it, down if white does
+        int step = takerColor == Piece.COLOR_BLACK ? 8 : -8;
+        int nowSquare = intermediateSquare + step;
+
+        // in the same order as the EnPassant algorithm finds the takers
+        String after = (packed & (1 << 6)) != 0 ? Square.name(nowSquare + 1) : null;
+        String before = (packed & (1 << 7)) != 0 ? Square.name(nowSquare - 1) : null;
+
+        EnPasser enPasser = new EnPasser();
+        enPasser.takerColor = takerColor;
+        enPasser.beforeSquare = Square.name(intermediateSquare - step);
+        enPasser.intermediateSquare = Square.name(intermediateSquare);
+        enPasser.nowSquare = Square.name(nowSquare);
+        if (after != null && before != null) enPasser.taker = new String[]{after, before};
+        else if (after != null || before != null) enPasser.taker = new String[]{after != null ? after : before};
+        else enPasser.taker = new String[0];
+        return enPasser;
+    }
+
 }
@@ -0,0 +1,91 @@
+package tanzi.model;
+
+/**
+ * A move is packed into a single int so that a list of moves is just an int array, which can be
+ * filled & reused without creating any object. The bits of the int are laid out as below:
+ * <pre>
+ *     bits  0 - 5   source square
+ *     bits  6 - 11  destination square
+ *     bits 12 - 14  type of the piece making the move
+ *     bits 15 - 17  type of the piece being captured, 7 for no capture
+ *     bits 18 - 20  type the pawn gets promoted to, 7 for no promotion
+ *     bits 21 - 23  flags for en-passant, castle & the double push of a pawn
+ * </pre>
+ * Squares are the int squares of the {@link Square} class & types are the piece types of the
+ * {@link Piece} class. The methods below return -1 for no capture & no promotion, the same as the
+ * promotion type {@link tanzi.staff.BoardRegistry#makeMove(int, int, int)} expects.
+ */
+
+public abstract class Move {
+
+    public static final int EN_PASSANT = 1 << 21;
+    public static final int CASTLE = 1 << 22;
+    public static final int DOUBLE_PUSH = 1 << 23;
+
+    private static final int NONE = 7;
+
+    private Move() {
+
+    }
+
+    /**
+     * Packs a move into an int. Pass -1 for the captured type & the promotion type if the move
+     * doesn't capture or promote. Flags are any combination of EN_PASSANT, CASTLE & DOUBLE_PUSH.
+     */
+    public static int of(int from, int to, int type, int capturedType, int promotionType, int flags) {
+        return from | (to << 6) | (type << 12) | ((capturedType & NONE) << 15) | ((promotionType & NONE) << 18) | flags;
+    }
+
+    public static int from(int move) {
+        return move & 63;
+    }
+
+    public static int to(int move) {
+        return (move >>> 6) & 63;
+    }
+
+    public static int type(int move) {
+        return (move >>> 12) & 7;
+    }
+
+    public static int capturedType(int move) {
+        int type = (move >>> 15) & 7;
+        return type == NONE ? -1 : type;
+    }
+
+    public static int promotionType(int move) {
+        int type = (move >>> 18) & 7;
+        return type == NONE ? -1 : type;
+    }
+
+    public static boolean isCapture(int move) {
+        return ((move >>> 15) & 7) != NONE;
+    }
+
+    public static boolean isPromotion(int move) {
+        return ((move >>> 18) & 7) != NONE;
+    }
+
+    public static boolean isEnPassant(int move) {
+        return (move & EN_PASSANT) != 0;
+    }
+
+    public static boolean isCastle(int move) {
+        return (move & CASTLE) != 0;
+    }
+
+    public static boolean isDoublePush(int move) {
+        return (move & DOUBLE_PUSH) != 0;
+    }
+
+    /**
+     * Returns the move by its squares such as "e2e4" or "e7e8q" for a promotion. It is meant for
+     * logs & tests, it is not the SAN of the move.
+     */
+    public static String name(int move) {
+        String name = Square.name(from(move)) + Square.name(to(move));
+        if (!isPromotion(move)) return name;
+        return name + Character.toLowerCase(Piece.getShortName(promotionType(move), 'x'));
+    }
+
+}
@@ -16,6 +16,8 @@ public class MoveMeta {
     // move properties
     public int type = -1;
     public String move;
+
+    // the move without the check & checkmate signs. it is null for a reused move meta, see reset()
     public String normalizedMove = null;
     public int color = -1;
 
@@ -67,6 +69,47 @@ public class MoveMeta {
         this.normalizedMove = move.replace("+", "").replace("#", "");
     }
 
+    /**
+     * Clears all the properties of the move meta for the new move, so that the same object can be
+     * used for analyzing the moves one after another. Unlike the constructor, the normalized move is
+     * not calculated as it would create a new string for each move with a check.
+     */
+    public void reset(String move) {
+        moveIndex = 0;
+        type = -1;
+        this.move = move;
+        normalizedMove = null;
+        color = -1;
+
+        destSquare = null;
+
+        uniqueName = false;
+        uniqueRank = false;
+        uniqueFile = false;
+        uniqueSquare = false;
+        uniqueFileName = Character.MIN_VALUE;
+        uniqueRankName = -1;
+        uniqueSquareName = null;
+
+        simpleMove = false;
+        takes = false;
+
+        promotion = false;
+        promoteType = -1;
+
+        castle = false;
+        shortCastle = false;
+        longCastle = false;
+
+        check = move != null && move.indexOf('+') != -1;
+        checkMate = move != null && move.indexOf('#') != -1;
+
+        enPassant = false;
+        enPasserIntermediate = null;
+        enPasserNow = null;
+        enPasserTaker = null;
+    }
+
     @Override
     public String toString() {
         return String.format(
@@ -98,6 +141,8 @@ public class MoveMeta {
 
         // start copying properties to new MoveMeta
 
+        moveMeta.moveIndex = moveIndex;
+
         // move properties
         moveMeta.type = type;
         moveMeta.move = move;
@@ -13,10 +13,10 @@ import java.util.ArrayList;
  * This OS is also helpful for other piece. we may find situation where we want to see if a
  * piece can be attacked from the Eight-Squares.
  * <p>
- * When you create an instance of this class, it calculates OS for the square you pass in the
- * constructor eagerly. for king, each time the king moves, this method subsequently needs to be
- * called. we are using greedy algorithm to avoid calculation over & over for the king after
- * each move on the board to calculate pin, discover attack etc.
+ * The OS for the square is calculated lazily on the first request and kept until the square
+ * changes. for king, each time the king moves, updateOS needs to be called. we are using greedy
+ * algorithm to avoid calculation over & over for the king after each move on the board to
+ * calculate pin, discover attack etc.
  */
 
 public class OctalSquare {
@@ -34,8 +34,10 @@ public class OctalSquare {
         updateOS(kingSquare);
     }
 
-    // this method returns previously calculated king aligned squares of an army's king
+    // this method returns previously calculated king aligned squares of an army's king. they are
+    // calculated on the first request after the king has moved.
     public ArrayList<String> getOSSquare() {
+        if (kingAlignedSquare == null) kingAlignedSquare = GeometryEngineer.calculateKingAlignedSquare(kingSquare);
         return kingAlignedSquare;
     }
 
@@ -58,7 +60,7 @@ public class OctalSquare {
          * indexing to calculate aligned squares by the given square
          * */
 
-        int piecePos = kingAlignedSquare.indexOf(fittingSquare);
+        int piecePos = getOSSquare().indexOf(fittingSquare);
         if (piecePos == -1) return null;
 
         ArrayList<String> alignedSquareList = new ArrayList<>();
@@ -95,11 +97,11 @@ public class OctalSquare {
      */
     public void updateOS(String kingSquare) {
         this.kingSquare = kingSquare;
-        kingAlignedSquare = GeometryEngineer.calculateKingAlignedSquare(kingSquare);
+        kingAlignedSquare = null;
     }
 
     public void __clear() {
-        kingAlignedSquare.clear();
+        kingAlignedSquare = new ArrayList<>();
     }
 
     public String getKingSquare() {
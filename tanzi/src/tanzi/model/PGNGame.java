@@ -0,0 +1,49 @@
+package tanzi.model;
+
+import tanzi.staff.MoveRepo;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A game as it is read from a PGN file by the PGNReader. It holds the tag pairs of the game in the
+ * order they are written and the SAN moves of the main line. Comments, variations, NAGs & move
+ * numbers are not a part of it.
+ * <p>
+ * The moves can be given to a MoveRepo as they are, see {@link #repo(MoveRepo.Type)}.
+ */
+
+public class PGNGame {
+
+    // the tag pairs such as Event, White, Black, Result etc. by their names
+    public final Map<String, String> headers = new LinkedHashMap<>();
+
+    // moves of the main line such as e4, Nf3, O-O-O, exd8=Q+
+    public final ArrayList<String> moves = new ArrayList<>();
+
+    // the game termination marker of the movetext such as 1-0, 0-1, 1/2-1/2 or *
+    public String result;
+
+    public String header(String name) {
+        return headers.get(name);
+    }
+
+    /**
+     * Returns the moves separated by commas, which is the format the MoveRepo & the PGN class work
+     * with. It is an empty string for a game with no move.
+     */
+    public String movesAsPGN() {
+        return String.join(",", moves);
+    }
+
+    /**
+     * Creates a move repository of the type with the moves of the game, starting from the position
+     * of the FEN tag if the game has one. It throws exception for a game without any move & FEN for
+     * read-only & guarded repositories, the same as MoveRepo.of() does.
+     */
+    public MoveRepo repo(MoveRepo.Type type) {
+        return MoveRepo.of(type, header("FEN"), moves.isEmpty() ? null : movesAsPGN());
+    }
+
+}
@@ -55,6 +55,35 @@ public class Piece {
         return clonedPiece;
     }
 
+    /**
+     * Packs the type, the color, the squares & the moved state of the piece into an int, so that
+     * the history of a game can keep its pieces without keeping the objects. The bits of the int are
+     * laid out as type (0 - 2), color (3), current square (4 - 9), previous square (10 - 15) and
+     * whether it has moved (16). The piece must be on a square.
+     */
+    public int pack() {
+        int current = Square.of(currentSquare);
+        if (current == Square.NONE) throw new IllegalArgumentException("Can't pack a piece off the board.");
+
+        int previous = Square.of(previousSquare());
+        if (previous == Square.NONE) previous = current;
+
+        return type | (color << 3) | (current << 4) | (previous << 10) | (hasMoved ? 1 << 16 : 0);
+    }
+
+    /**
+     * Creates a piece from the int {@link #pack()} returned.
+     */
+    public static Piece unpack(int packed) {
+        Piece piece = PiecePool.get();
+        piece.type = packed & 7;
+        piece.color = (packed >>> 3) & 1;
+        piece.currentSquare = Square.name((packed >>> 4) & 63);
+        piece.previousSquare = Square.name((packed >>> 10) & 63);
+        piece.hasMoved = (packed & (1 << 16)) != 0;
+        return piece;
+    }
+
     public static int getOppositeColor(int color) {
         return color == COLOR_WHITE ? COLOR_BLACK : COLOR_WHITE;
     }
@@ -65,6 +94,17 @@ public class Piece {
         hasMoved = true;
     }
 
+    /**
+     * Puts back the type, the squares and the moved state of a memo piece cloned before a move, so
+     * that a move made in place on the BR can be unmade exactly.
+     */
+    public void restore(Piece memo) {
+        this.type = memo.type;
+        this.currentSquare = memo.currentSquare;
+        this.previousSquare = memo.previousSquare;
+        this.hasMoved = memo.hasMoved;
+    }
+
     public void setPreviousSquare(String previousSquare) {
         this.previousSquare = previousSquare;
     }
@@ -2,186 +2,211 @@ package tanzi.model;
 
 import tanzi.app.Board;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
- * This class holds square of a chess board. Each square is associated with a square name and index
- * number. a8 is the 1st square, b8 is the 2nd square and so on.
+ * This class holds square of a chess board. Each square is associated with a square name and the index
+ * number of the board GUI, which is counted from 1 for a8, 2 for b8 and so on up to 64 for h1 from
+ * white's perspective, and the other way round for black.
+ * <p>
+ * Within the engine, a square is just an int from 0 to 63 counted from a1(0), b1(1) to h1(7), a2(8)
+ * and so on up to h8(63). It is the same as the bit index of the square on a {@link Bitboard}. Square
+ * names like "e4" and the index numbers of the board GUI are only needed at the SAN/GUI boundary,
+ * and they are converted to & from the int square by the tables which are calculated once when the
+ * class is loaded. There are also tables for the file, the rank and the neighbouring squares so that
+ * algorithms can walk the board without building and parsing square names.
  */
 public abstract class Square {
 
-    // useful easy indexing with squares
+    // useful int squares
+
+    public static final int C3 = 18;
+    public static final int E1 = 4;
+    public static final int E8 = 60;
+
+    // the int square value for no square, such as a square beyond the edge of the board
+    public static final int NONE = -1;
+
+    /*
+     * directions to the neighbouring squares, in the same order as the OS segments are calculated by
+     * the GeometryEngineer. the step tables below tell how each direction changes the file & rank.
+     * */
+    public static final int TOP = 0;
+    public static final int BOTTOM = 1;
+    public static final int LEFT = 2;
+    public static final int RIGHT = 3;
+    public static final int TOP_LEFT = 4;
+    public static final int TOP_RIGHT = 5;
+    public static final int BOTTOM_LEFT = 6;
+    public static final int BOTTOM_RIGHT = 7;
+
+    private static final int[] FILE_STEP = {0, 0, -1, 1, -1, 1, -1, 1};
+    private static final int[] RANK_STEP = {1, -1, 0, 0, 1, 1, -1, -1};
+    private static final int[] OPPOSITE = {BOTTOM, TOP, RIGHT, LEFT, BOTTOM_RIGHT, BOTTOM_LEFT, TOP_RIGHT, TOP_LEFT};
+
+    // square name, file & rank of each int square
+    private static final String[] NAME = new String[64];
+    private static final char[] FILE = new char[64];
+    private static final int[] RANK = new int[64];
+
+    // neighbouring square of each int square along each direction, NONE if it is off the board
+    private static final int[][] NEIGHBOUR = new int[64][8];
+
+    // square-index translation tables for both orientations of the board & the way back
+    private static final int[] INDEX_WHITE = new int[64];
+    private static final int[] INDEX_BLACK = new int[64];
+    private static final int[] SQUARE_WHITE = new int[65];
+    private static final int[] SQUARE_BLACK = new int[65];
 
-    public static final int C3 = 43;
-    public static final int E1 = 61;
-    public static final int E8 = 5;
+    static {
+        SQUARE_WHITE[0] = NONE;
+        SQUARE_BLACK[0] = NONE;
+
+        for (int square = 0; square < 64; square++) {
+            int file = square & 7;
+            int rank = square >>> 3;
+
+            FILE[square] = (char) ('a' + file);
+            RANK[square] = rank + 1;
+            NAME[square] = FILE[square] + "" + RANK[square];
+
+            for (int direction = 0; direction < 8; direction++)
+                NEIGHBOUR[square][direction] = at(square, FILE_STEP[direction], RANK_STEP[direction]);
+
+            // a8 is the 1st square from white's perspective, and it is the 64th for black
+            int index = ((7 - rank) << 3) + file + 1;
+            INDEX_WHITE[square] = index;
+            INDEX_BLACK[square] = 65 - index;
+            SQUARE_WHITE[index] = square;
+            SQUARE_BLACK[65 - index] = square;
+        }
+    }
 
-    // square-index translation map/table
-    public static final HashMap<String, Integer> indexSquareWhite;
+    /**
+     * Returns the int square for a square name such as "e4". NONE is returned for a null or an
+     * invalid square name.
+     */
+    public static int of(String square) {
+        if (square == null || square.length() != 2) return NONE;
 
-    private static final HashMap<String, Integer> indexSquareBlack;
+        int file = square.charAt(0) - 'a';
+        int rank = square.charAt(1) - '1';
+        if (file < 0 || file > 7 || rank < 0 || rank > 7) return NONE;
 
-    static {
-        indexSquareBlack = new HashMap<>(64);
-        indexSquareBlack.put("a8", 64);
-        indexSquareBlack.put("b8", 63);
-        indexSquareBlack.put("c8", 62);
-        indexSquareBlack.put("d8", 61);
-        indexSquareBlack.put("e8", 60);
-        indexSquareBlack.put("f8", 59);
-        indexSquareBlack.put("g8", 58);
-        indexSquareBlack.put("h8", 57);
-        indexSquareBlack.put("a7", 56);
-        indexSquareBlack.put("b7", 55);
-        indexSquareBlack.put("c7", 54);
-        indexSquareBlack.put("d7", 53);
-        indexSquareBlack.put("e7", 52);
-        indexSquareBlack.put("f7", 51);
-        indexSquareBlack.put("g7", 50);
-        indexSquareBlack.put("h7", 49);
-        indexSquareBlack.put("a6", 48);
-        indexSquareBlack.put("b6", 47);
-        indexSquareBlack.put("c6", 46);
-        indexSquareBlack.put("d6", 45);
-        indexSquareBlack.put("e6", 44);
-        indexSquareBlack.put("f6", 43);
-        indexSquareBlack.put("g6", 42);
-        indexSquareBlack.put("h6", 41);
-        indexSquareBlack.put("a5", 40);
-        indexSquareBlack.put("b5", 39);
-        indexSquareBlack.put("c5", 38);
-        indexSquareBlack.put("d5", 37);
-        indexSquareBlack.put("e5", 36);
-        indexSquareBlack.put("f5", 35);
-        indexSquareBlack.put("g5", 34);
-        indexSquareBlack.put("h5", 33);
-        indexSquareBlack.put("a4", 32);
-        indexSquareBlack.put("b4", 31);
-        indexSquareBlack.put("c4", 30);
-        indexSquareBlack.put("d4", 29);
-        indexSquareBlack.put("e4", 28);
-        indexSquareBlack.put("f4", 27);
-        indexSquareBlack.put("g4", 26);
-        indexSquareBlack.put("h4", 25);
-        indexSquareBlack.put("a3", 24);
-        indexSquareBlack.put("b3", 23);
-        indexSquareBlack.put("c3", 22);
-        indexSquareBlack.put("d3", 21);
-        indexSquareBlack.put("e3", 20);
-        indexSquareBlack.put("f3", 19);
-        indexSquareBlack.put("g3", 18);
-        indexSquareBlack.put("h3", 17);
-        indexSquareBlack.put("a2", 16);
-        indexSquareBlack.put("b2", 15);
-        indexSquareBlack.put("c2", 14);
-        indexSquareBlack.put("d2", 13);
-        indexSquareBlack.put("e2", 12);
-        indexSquareBlack.put("f2", 11);
-        indexSquareBlack.put("g2", 10);
-        indexSquareBlack.put("h2", 9);
-        indexSquareBlack.put("a1", 8);
-        indexSquareBlack.put("b1", 7);
-        indexSquareBlack.put("c1", 6);
-        indexSquareBlack.put("d1", 5);
-        indexSquareBlack.put("e1", 4);
-        indexSquareBlack.put("f1", 3);
-        indexSquareBlack.put("g1", 2);
-        indexSquareBlack.put("h1", 1);
-
-        indexSquareWhite = new HashMap<>(64);
-        indexSquareWhite.put("a8", 1);
-        indexSquareWhite.put("b8", 2);
-        indexSquareWhite.put("c8", 3);
-        indexSquareWhite.put("d8", 4);
-        indexSquareWhite.put("e8", 5);
-        indexSquareWhite.put("f8", 6);
-        indexSquareWhite.put("g8", 7);
-        indexSquareWhite.put("h8", 8);
-        indexSquareWhite.put("a7", 9);
-        indexSquareWhite.put("b7", 10);
-        indexSquareWhite.put("c7", 11);
-        indexSquareWhite.put("d7", 12);
-        indexSquareWhite.put("e7", 13);
-        indexSquareWhite.put("f7", 14);
-        indexSquareWhite.put("g7", 15);
-        indexSquareWhite.put("h7", 16);
-        indexSquareWhite.put("a6", 17);
-        indexSquareWhite.put("b6", 18);
-        indexSquareWhite.put("c6", 19);
-        indexSquareWhite.put("d6", 20);
-        indexSquareWhite.put("e6", 21);
-        indexSquareWhite.put("f6", 22);
-        indexSquareWhite.put("g6", 23);
-        indexSquareWhite.put("h6", 24);
-        indexSquareWhite.put("a5", 25);
-        indexSquareWhite.put("b5", 26);
-        indexSquareWhite.put("c5", 27);
-        indexSquareWhite.put("d5", 28);
-        indexSquareWhite.put("e5", 29);
-        indexSquareWhite.put("f5", 30);
-        indexSquareWhite.put("g5", 31);
-        indexSquareWhite.put("h5", 32);
-        indexSquareWhite.put("a4", 33);
-        indexSquareWhite.put("b4", 34);
-        indexSquareWhite.put("c4", 35);
-        indexSquareWhite.put("d4", 36);
-        indexSquareWhite.put("e4", 37);
-        indexSquareWhite.put("f4", 38);
-        indexSquareWhite.put("g4", 39);
-        indexSquareWhite.put("h4", 40);
-        indexSquareWhite.put("a3", 41);
-        indexSquareWhite.put("b3", 42);
-        indexSquareWhite.put("c3", 43);
-        indexSquareWhite.put("d3", 44);
-        indexSquareWhite.put("e3", 45);
-        indexSquareWhite.put("f3", 46);
-        indexSquareWhite.put("g3", 47);
-        indexSquareWhite.put("h3", 48);
-        indexSquareWhite.put("a2", 49);
-        indexSquareWhite.put("b2", 50);
-        indexSquareWhite.put("c2", 51);
-        indexSquareWhite.put("d2", 52);
-        indexSquareWhite.put("e2", 53);
-        indexSquareWhite.put("f2", 54);
-        indexSquareWhite.put("g2", 55);
-        indexSquareWhite.put("h2", 56);
-        indexSquareWhite.put("a1", 57);
-        indexSquareWhite.put("b1", 58);
-        indexSquareWhite.put("c1", 59);
-        indexSquareWhite.put("d1", 60);
-        indexSquareWhite.put("e1", 61);
-        indexSquareWhite.put("f1", 62);
-        indexSquareWhite.put("g1", 63);
-        indexSquareWhite.put("h1", 64);
+        return (rank << 3) | file;
+    }
+
+    /**
+     * Returns the int square for a zero-based file (0 for "a" file) and a rank as it is written
+     * on the board. NONE is returned if they fall off the board.
+     */
+    public static int of(int file, int rank) {
+        if (file < 0 || file > 7 || rank < 1 || rank > 8) return NONE;
+        return ((rank - 1) << 3) | file;
+    }
+
+    /**
+     * Returns the name of an int square. Null is returned for NONE or any other value off the board.
+     */
+    public static String name(int square) {
+        if (square < 0 || square > 63) return null;
+        return NAME[square];
+    }
+
+    /**
+     * From a given int square, by using file step and rank step, this method can calculate the
+     * int square like from c4 to g5 where rank step is +1 and file step is +4. NONE is returned if
+     * the steps go off the board.
+     */
+    public static int at(int square, int fileStep, int rankStep) {
+        int file = (square & 7) + fileStep;
+        int rank = (square >>> 3) + rankStep;
+        if (file < 0 || file > 7 || rank < 0 || rank > 7) return NONE;
+        return (rank << 3) | file;
+    }
+
+    /**
+     * Returns the neighbouring square along the direction such as {@link #TOP_LEFT}. NONE is
+     * returned at the edge of the board.
+     */
+    public static int step(int square, int direction) {
+        return NEIGHBOUR[square][direction];
+    }
+
+    /**
+     * Returns the direction to go from one square to reach another square which is aligned with
+     * it by file, rank or diagonal. NONE is returned if the squares are not aligned or the same.
+     */
+    public static int direction(int from, int to) {
+        int fileDiff = (to & 7) - (from & 7);
+        int rankDiff = (to >>> 3) - (from >>> 3);
+        if (fileDiff == 0 && rankDiff == 0) return NONE;
+
+        if (fileDiff == 0) return rankDiff > 0 ? TOP : BOTTOM;
+        if (rankDiff == 0) return fileDiff > 0 ? RIGHT : LEFT;
+        if (Math.abs(fileDiff) != Math.abs(rankDiff)) return NONE;
+
+        if (rankDiff > 0) return fileDiff > 0 ? TOP_RIGHT : TOP_LEFT;
+        return fileDiff > 0 ? BOTTOM_RIGHT : BOTTOM_LEFT;
+    }
+
+    // the direction that goes the other way, such as BOTTOM_RIGHT for TOP_LEFT
+    public static int opposite(int direction) {
+        return OPPOSITE[direction];
+    }
+
+    public static char fileAsChar(int square) {
+        return FILE[square];
+    }
+
+    // zero-based file of the square, 0 for the "a" file
+    public static int fileIndex(int square) {
+        return square & 7;
+    }
+
+    public static int rankAsInt(int square) {
+        return RANK[square];
+    }
+
+    /*
+     * conversion between int squares & the index numbers the board GUI uses. index numbers go
+     * from 1 to 64 and a NONE square is returned for any index out of that range.
+     * */
+
+    public static int index(int square) {
+        return INDEX_WHITE[square];
+    }
+
+    public static int index(int square, Board.Orientation orientation) {
+        return orientation == Board.Orientation.White ? INDEX_WHITE[square] : INDEX_BLACK[square];
+    }
+
+    public static int fromIndex(int index) {
+        if (index < 1 || index > 64) return NONE;
+        return SQUARE_WHITE[index];
+    }
+
+    public static int fromIndex(int index, Board.Orientation orientation) {
+        if (index < 1 || index > 64) return NONE;
+        return orientation == Board.Orientation.White ? SQUARE_WHITE[index] : SQUARE_BLACK[index];
     }
 
     public static int index(String square) {
-        if (!indexSquareWhite.containsKey(square)) return -1;
-        return indexSquareWhite.get(square);
+        int intSquare = of(square);
+        if (intSquare == NONE) return -1;
+        return INDEX_WHITE[intSquare];
     }
 
     public static int index(String square, Board.Orientation orientation) {
-        if (!indexSquareWhite.containsKey(square)) return -1;
-        HashMap<String, Integer> map = orientation == Board.Orientation.White ? indexSquareWhite : indexSquareBlack;
-        return map.get(square);
+        int intSquare = of(square);
+        if (intSquare == NONE) return -1;
+        return index(intSquare, orientation);
     }
 
     public static String forIndex(int index) {
-        if (!indexSquareWhite.containsValue(index)) return null;
-        for (Map.Entry<String, Integer> entry : indexSquareWhite.entrySet()) {
-            if (entry.getValue() == index) return entry.getKey();
-        }
-        return null;
+        return name(fromIndex(index));
     }
 
     public static String forIndex(int index, Board.Orientation orientation) {
-        HashMap<String, Integer> map = orientation == Board.Orientation.White ? indexSquareWhite : indexSquareBlack;
-        if (!map.containsValue(index)) return null;
-        for (Map.Entry<String, Integer> entry : map.entrySet()) {
-            if (entry.getValue() == index) return entry.getKey();
-        }
-        return null;
+        return name(fromIndex(index, orientation));
     }
 
     public static String fileAsStr(String square) {
@@ -193,7 +218,7 @@ public abstract class Square {
     }
 
     public static int rankAsInt(String square) {
-        return Character.getNumericValue(square.charAt(1));
+        return square.charAt(1) - '0';
     }
 
     public static char rankAsChar(String square) {
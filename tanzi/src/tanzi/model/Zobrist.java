@@ -0,0 +1,99 @@
+package tanzi.model;
+
+import tanzi.staff.BoardRegistry;
+
+/**
+ * Zobrist hashing gives a position a 64-bit key which is cheap to keep up to date. There is a
+ * random number for each piece type of each army on each square, for each combination of castle
+ * rights, for each file an en-passer can be taken on and for black to move. The key of a position
+ * is all the numbers that apply to it XOR-ed together.
+ * <p>
+ * As XOR undoes itself, the BR doesn't recalculate the key when a piece is added or deleted; it
+ * just XORs the number of that piece on that square into the key. Same goes for the castle rights,
+ * the en-passer and the side to move.
+ * <p>
+ * The numbers are generated by a fixed seed so that the key of a position is the same on every run
+ * and can be stored alongside puzzles & games.
+ */
+
+public abstract class Zobrist {
+
+    private static final long SEED = 0x7A6E7A692D6B6579L;
+
+    private static final long[][][] PIECE = new long[2][6][64];
+    private static final long[] CASTLE = new long[16];
+    private static final long[] EN_PASSANT = new long[8];
+    private static final long BLACK_TO_MOVE;
+
+    static {
+        long state = SEED;
+
+        for (int color = 0; color < 2; color++)
+            for (int type = 0; type < 6; type++)
+                for (int square = 0; square < 64; square++)
+                    PIECE[color][type][square] = mix(state += 0x9E3779B97F4A7C15L);
+
+        // no castle rights at all adds nothing to the key, so does an empty board
+        for (int rights = 1; rights < 16; rights++)
+            CASTLE[rights] = mix(state += 0x9E3779B97F4A7C15L);
+
+        for (int file = 0; file < 8; file++)
+            EN_PASSANT[file] = mix(state += 0x9E3779B97F4A7C15L);
+
+        BLACK_TO_MOVE = mix(state + 0x9E3779B97F4A7C15L);
+    }
+
+    private Zobrist() {
+
+    }
+
+    // the output function of the SplitMix64 generator
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public static long piece(int color, int type, int square) {
+        return PIECE[color][type][square];
+    }
+
+    // castle rights are the combination of the CASTLE_ flags of the BoardRegistry
+    public static long castle(int rights) {
+        return CASTLE[rights];
+    }
+
+    // the zero-based file of the square the en-passer can be taken on
+    public static long enPassant(int file) {
+        return EN_PASSANT[file];
+    }
+
+    public static long side(int color) {
+        return color == Piece.COLOR_BLACK ? BLACK_TO_MOVE : 0L;
+    }
+
+    public static long enPasser(EnPasser enPasser) {
+        if (enPasser == null) return 0L;
+        return EN_PASSANT[Square.fileIndex(Square.of(enPasser.intermediateSquare))];
+    }
+
+    /**
+     * Calculates the key of the position in the BR from scratch. The BR keeps its key up to date by
+     * itself, so this is only needed to verify that key.
+     */
+    public static long hash(BoardRegistry br) {
+        long hash = 0L;
+
+        for (int color = 0; color < 2; color++)
+            for (int type = 0; type < 6; type++)
+                for (long bb = br.bitboard(type, color); bb != 0; bb &= bb - 1)
+                    hash ^= PIECE[color][type][Bitboard.first(bb)];
+
+        hash ^= CASTLE[br.castleRights()];
+        hash ^= enPasser(br.restoreEnPasser(Piece.COLOR_WHITE));
+        hash ^= enPasser(br.restoreEnPasser(Piece.COLOR_BLACK));
+        hash ^= side(br.sideToMove());
+        return hash;
+    }
+
+}
@@ -3,44 +3,53 @@ package tanzi.pool;
 import tanzi.pool.meta.BRMeta;
 import tanzi.staff.BufferedBR;
 
+/**
+ * Pool of the buffered BRs. Like the piece pool, each thread gets its own pool.
+ */
+
 public class BufferedBRPool extends PoolFactory<BufferedBR> {
 
-    private static BufferedBRPool INSTANCE;
     private static final int POOL_SIZE = 3;
+    private static final ThreadLocal<BufferedBRPool> INSTANCE = ThreadLocal.withInitial(() -> new BufferedBRPool(POOL_SIZE));
+
+    private final BRMeta meta = new BRMeta();
 
     private BufferedBRPool(int maxSize) {
         super(maxSize);
     }
 
     public static BufferedBRPool getInstance() {
-        if (INSTANCE == null) INSTANCE = new BufferedBRPool(POOL_SIZE);
-        return INSTANCE;
+        return INSTANCE.get();
+    }
+
+    public BRMeta meta() {
+        return meta;
     }
 
     @Override
     public BufferedBR getObj() {
-        BRMeta.request();
+        meta.request();
         int size = pool.size();
 
         if (size == 0) {
             return createObj();
         } else {
-            BRMeta.hit();
+            meta.hit();
             return pool.remove(size - 1);
         }
     }
 
     @Override
     public void recycleObj(BufferedBR bufferedBR) {
-        BRMeta.recycleRequest();
+        meta.recycleRequest();
         if (pool.size() >= poolSize) {
-            BRMeta.recycleMissed();
+            meta.recycleMissed();
             return;
         }
 
         bufferedBR.__clear();
         pool.add(bufferedBR);
-        BRMeta.recycled();
+        meta.recycled();
     }
 
     public static void recycle(BufferedBR bbr) {
@@ -53,7 +62,7 @@ public class BufferedBRPool extends PoolFactory<BufferedBR> {
 
     @Override
     protected BufferedBR createObj() {
-        BRMeta.created();
+        meta.created();
         return new BufferedBR();
     }
 
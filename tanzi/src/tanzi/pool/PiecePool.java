@@ -5,11 +5,16 @@ import tanzi.pool.meta.PieceMeta;
 
 /**
  * this pool class for piece really reduces object initialization and redundant piece objects.
+ * <p>
+ * each thread gets its own pool, so that many games can be played on different threads at the same
+ * time without any lock. a piece recycled by another thread just goes to that thread's pool.
  */
 
 public class PiecePool extends PoolFactory<Piece> {
 
-    private static PiecePool INSTANCE;
+    private static final ThreadLocal<PiecePool> INSTANCE = ThreadLocal.withInitial(PiecePool::new);
+
+    private final PieceMeta meta = new PieceMeta();
 
     // a chess board has 64 squares. here we have 150% of amount 64 to make a stable piece pool
     private static final int POOL_SIZE = 96;
@@ -19,29 +24,32 @@ public class PiecePool extends PoolFactory<Piece> {
     }
 
     public static PiecePool getInstance() {
-        if (INSTANCE == null) INSTANCE = new PiecePool();
-        return INSTANCE;
+        return INSTANCE.get();
+    }
+
+    public PieceMeta meta() {
+        return meta;
     }
 
     @Override
     public Piece getObj() {
-        PieceMeta.request();
+        meta.request();
         int size = pool.size();
 
         if (size == 0) {
             return createObj();
         } else {
-            PieceMeta.hit();
+            meta.hit();
             return pool.remove(size - 1);
         }
     }
 
     @Override
     public void recycleObj(Piece piece) {
-        PieceMeta.recycleRequest();
+        meta.recycleRequest();
 
         if (pool.size() >= poolSize) {
-            PieceMeta.recycleMissed();
+            meta.recycleMissed();
             return;
         }
 
@@ -52,7 +60,7 @@ public class PiecePool extends PoolFactory<Piece> {
         piece.setPreviousSquare(null);
         pool.add(piece);
 
-        PieceMeta.recycled();
+        meta.recycled();
     }
 
     public static Piece get() {
@@ -65,7 +73,7 @@ public class PiecePool extends PoolFactory<Piece> {
 
     @Override
     public Piece createObj() {
-        PieceMeta.created();
+        meta.created();
         return new Piece();
     }
 
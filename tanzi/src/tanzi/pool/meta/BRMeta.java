@@ -4,52 +4,58 @@ import tanzi.pool.BufferedBRPool;
 
 public class BRMeta {
 
-    private static int REQUEST = 0;
-    private static int CREATED = 0;
-    private static int HIT = 0;
-    private static int RECYCLE_REQUEST = 0;
-    private static int RECYCLED = 0;
-    private static int RECYCLE_MISSED = 0;
+    /*
+     * each pool instance has its own counters as the pools are kept per thread, so the threads never
+     * write to the same counters. log & reset work with the pool of the calling thread.
+     * */
+    private int request = 0;
+    private int created = 0;
+    private int hit = 0;
+    private int recycleRequest = 0;
+    private int recycled = 0;
+    private int recycleMissed = 0;
 
     public static void log() {
-        double unit = RECYCLED / 100d;
+        BRMeta meta = BufferedBRPool.getInstance().meta();
+        double unit = meta.recycled / 100d;
 
         System.out.println("\nBoardRegistry Pool Details:");
-        PieceMeta.logCommonParam(unit, REQUEST, CREATED, RECYCLE_REQUEST, RECYCLED, RECYCLE_MISSED, HIT);
+        PieceMeta.logCommonParam(unit, meta.request, meta.created, meta.recycleRequest, meta.recycled, meta.recycleMissed, meta.hit);
         System.out.println("BR in pool: " + BufferedBRPool.getInstance().size());
         System.out.println(" ");
     }
 
     public static void reset() {
-        REQUEST = 0;
-        CREATED = 0;
-        HIT = 0;
-        RECYCLE_REQUEST = 0;
-        RECYCLED = 0;
-        RECYCLE_MISSED = 0;
+        BRMeta meta = BufferedBRPool.getInstance().meta();
+        meta.request = 0;
+        meta.created = 0;
+        meta.hit = 0;
+        meta.recycleRequest = 0;
+        meta.recycled = 0;
+        meta.recycleMissed = 0;
     }
 
-    public static void request() {
-        REQUEST++;
+    public void request() {
+        request++;
     }
 
-    public static void hit() {
-        HIT++;
+    public void hit() {
+        hit++;
     }
 
-    public static void recycleRequest() {
-        RECYCLE_REQUEST++;
+    public void recycleRequest() {
+        recycleRequest++;
     }
 
-    public static void recycled() {
-        RECYCLED++;
+    public void recycled() {
+        recycled++;
     }
 
-    public static void recycleMissed() {
-        RECYCLE_MISSED++;
+    public void recycleMissed() {
+        recycleMissed++;
     }
 
-    public static void created() {
-        CREATED++;
+    public void created() {
+        created++;
     }
 }
@@ -1,5 +1,6 @@
 package tanzi.protocol;
 
+import tanzi.model.BRDiff;
 import tanzi.model.Piece;
 
 /**
@@ -31,6 +32,28 @@ public interface BRChangeListener {
      */
     void onPieceAddedToBR(String square, Piece piece);
 
+    /**
+     * The net change of a batch of changes made to the BR between {@link tanzi.staff.BoardRegistry#beginChanges()}
+     * & {@link tanzi.staff.BoardRegistry#endChanges()} is delivered at once by this method, with only the squares
+     * of which the piece has changed.
+     * <p>
+     * By default, it tells the change of each square by deleting the piece before the batch and adding the one
+     * after it, all the deletions first. A listener can override it to update the squares all together.
+     *
+     * @param diff The changed squares. It is reused by the BR, so it must not be kept after this call.
+     */
+    default void onBRChanges(BRDiff diff) {
+        for (int i = 0; i < diff.size(); i++) {
+            Piece piece = diff.before(i);
+            if (piece != null) onPieceDeletedFromBR(piece.currentSquare(), piece);
+        }
+
+        for (int i = 0; i < diff.size(); i++) {
+            Piece piece = diff.after(i);
+            if (piece != null) onPieceAddedToBR(piece.currentSquare(), piece);
+        }
+    }
+
     /**
      * When there have been a lot of changes made to the BR then any dependent on the BR must
      * discard all the previous cache and update itself with the fresh state of the BR.
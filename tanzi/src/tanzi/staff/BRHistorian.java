@@ -2,11 +2,11 @@ package tanzi.staff;
 
 import tanzi.algorithm.MoveMaker;
 import tanzi.model.BRHistory;
+import tanzi.model.BRHistoryStack;
 import tanzi.model.MoveMeta;
 import tanzi.protocol.RepoListener;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
 
 /**
  * For a game, pgn moves are analyzed and executed to the board registry. This class makes it possible to navigate
@@ -17,10 +17,18 @@ import java.util.Map;
  * detailing which pieces were involved, where they are now, whether there was any en-passer object available when
  * the change was made etc.
  * <p>
+ * The changes are kept packed in a {@link BRHistoryStack} by their move indexes rather than as the
+ * BRHistory objects, so that many long games can be kept open at once without much of the heap.
+ * <p>
  * <b>BRHistorian extends RepoListener</b>, which seems very opposite to the idea of OOP. However, this was absolutely
  * necessary to have. Because a repository is subject to be changed in many ways which will overcrowd an interface
  * implementation for any application (which is BRHistorian in this case) with uninterested subscriptions. Here
  * BRHistorian can be exclusive of what changes interest it or what doesn't.
+ * <p>
+ * Every few moves, a snapshot of the BR is kept as a checkpoint. Going to a move far from the current
+ * one restores the nearest checkpoint before the move and walks from there, so a jump takes about the
+ * same time wherever it goes in a long game. A checkpoint is taken when the historian arrives at its
+ * move by playing the move or by going back to it, where the BR is known to be at that move.
  */
 
 public class BRHistorian extends RepoListener {
@@ -30,12 +38,26 @@ public class BRHistorian extends RepoListener {
     // the BR, which BRHistorian is concerned with
     private final BoardRegistry br;
 
-    private final Map<Integer, BRHistory> historyStack;
+    private final BRHistoryStack historyStack;
+
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 16;
+
+    // restoring a checkpoint takes about as long as walking these many moves
+    private static final int RESTORE_COST = 4;
+
+    private int checkpointInterval = DEFAULT_CHECKPOINT_INTERVAL;
+
+    /*
+     * snapshots of the BR by the BoardRegistry.snapshot(), the one at n is for the position after the
+     * move of the index n * interval - 1, so the first one is for the position before any move. null
+     * is a checkpoint not taken yet.
+     * */
+    private final ArrayList<int[]> checkpoints = new ArrayList<>();
 
     public BRHistorian(MoveRepo repo, BoardRegistry br) {
         this.repo = repo;
         this.br = br;
-        historyStack = new HashMap<>();
+        historyStack = new BRHistoryStack();
 
         repo.setListener(this);
     }
@@ -72,34 +94,14 @@ public class BRHistorian extends RepoListener {
         // make sure if we have already where the index is requesting to be
         if (moveIndex == repoIndex) return true;
 
+        // the BR is at the initial position of the game before any move is played
+        if (repoIndex == -1 && lastChangeIndex == -1) checkpoint(-1);
+
         // let's figure out if we have played up to the index request first.
         boolean alreadyPlayed = moveIndex <= lastChangeIndex;
 
         if (alreadyPlayed) {
-            // based on the motion sign, calculate the step
-            boolean forwardMotion = moveIndex > repoIndex;
-            int step = forwardMotion ? 1 : -1;
-
-
-            // We need to adjust the counter from which the undo/redo starts. For redo, it is simple
-            // start from the next index, however, for undo, we need to undo the current move then
-            // go all the way down to the index INCLUSIVE.
-            int i = forwardMotion ? repoIndex + step : repoIndex;
-
-            while (true) {
-                if (forwardMotion) {
-                    historyFor(i).redo(br);
-                    // We check the condition after redo it is because we want to go to the index INCLUSIVE
-                    if(i == moveIndex) break;
-                }
-                else {
-                    // Here, we check before undo, it is because we want to reach to the requested index by undoing
-                    // the index before it so after undo, we reach the desired index position.
-                    if (i == moveIndex) break;
-                    historyFor(i).undo(br);
-                }
-                i += step;
-            }
+            walk(repoIndex, moveIndex);
 
             // We assumed that our change stack is of course valid to undo/redo.
             // So update the internal index pointer for this navigation
@@ -109,10 +111,8 @@ public class BRHistorian extends RepoListener {
 
             // here we need to see how far we can utilize our history change stack before
             // actually playing a move from the repo
-            int playUntil = lastChangeIndex - repoIndex;
-            if (playUntil > 0) {
-                for (int i = repoIndex + 1; i <= lastChangeIndex; i++)
-                    historyFor(i).saveAndExecute(this, br);
+            if (lastChangeIndex > repoIndex) {
+                walk(repoIndex, lastChangeIndex);
 
                 // mark in the repo that we have played from the cache up to max
                 repo.setIndexAt(lastChangeIndex);
@@ -130,6 +130,7 @@ public class BRHistorian extends RepoListener {
 
                     // update the internal index pointer for this navigation
                     repo.setIndexAt(i);
+                    checkpoint(i);
                 } catch (Exception e) {
                     goTo(repoIndex);
                     return false;
@@ -140,6 +141,69 @@ public class BRHistorian extends RepoListener {
         return true;
     }
 
+    /*
+     * moves the BR between two moves in the change stack by undoing/redoing the changes. if the
+     * nearest checkpoint before the destination is closer than the current move, the BR is restored
+     * from it first, so that only a few changes are redone.
+     * */
+    private void walk(int from, int to) {
+        int checkpoint = nearestCheckpoint(to);
+        if (checkpoint != Integer.MIN_VALUE && to - checkpoint + RESTORE_COST < Math.abs(to - from)) {
+            br.restore(checkpoints.get((checkpoint + 1) / checkpointInterval));
+            from = checkpoint;
+        }
+
+        // For redo, we start from the next move and go to the index INCLUSIVE. For undo, we undo the
+        // current move and go all the way down until the index is reached.
+        for (int i = from + 1; i <= to; i++)
+            historyStack.redo(i, br);
+
+        for (int i = from; i > to; i--) {
+            historyStack.undo(i, br);
+            checkpoint(i - 1);
+        }
+    }
+
+    // the index of the move of the nearest checkpoint at or before the index, MIN_VALUE for none
+    private int nearestCheckpoint(int moveIndex) {
+        if (checkpointInterval == 0) return Integer.MIN_VALUE;
+
+        for (int n = Math.min((moveIndex + 1) / checkpointInterval, checkpoints.size() - 1); n >= 0; n--)
+            if (checkpoints.get(n) != null) return n * checkpointInterval - 1;
+        return Integer.MIN_VALUE;
+    }
+
+    // takes a checkpoint if the BR is at the move of a checkpoint which is not taken yet
+    private void checkpoint(int moveIndex) {
+        if (checkpointInterval == 0 || (moveIndex + 1) % checkpointInterval != 0) return;
+
+        int n = (moveIndex + 1) / checkpointInterval;
+        while (checkpoints.size() <= n) checkpoints.add(null);
+        if (checkpoints.get(n) == null) checkpoints.set(n, br.snapshot());
+    }
+
+    // drops the checkpoints of the moves from the index onward
+    private void dropCheckpoints(int moveIndex) {
+        if (checkpointInterval == 0) return;
+
+        int keep = moveIndex / checkpointInterval + 1;
+        if (checkpoints.size() > keep) checkpoints.subList(keep, checkpoints.size()).clear();
+    }
+
+    /**
+     * Sets how many moves apart the checkpoints are, 0 to take no checkpoint. The checkpoints taken
+     * so far are dropped.
+     */
+    public void setCheckpointInterval(int moves) {
+        if (moves < 0) throw new IllegalArgumentException("Invalid checkpoint interval " + moves);
+        checkpointInterval = moves;
+        checkpoints.clear();
+    }
+
+    public int checkpointInterval() {
+        return checkpointInterval;
+    }
+
     /**
      * This method invocation goes one step back with the MoveRepo using
      * BRHistorian.goTo() method. Returns true on success, false otherwise.
@@ -156,25 +220,70 @@ public class BRHistorian extends RepoListener {
         return goTo(repo.currentIndex() + 1);
     }
 
+    /**
+     * Returns the history of the last move in the stack, null if there is none. The history is
+     * unpacked from the stack, so changing it doesn't change the stack.
+     */
     public BRHistory peekHistory() {
-        return historyStack.getOrDefault(historyStack.size() - 1, null);
+        return historyStack.get(historyStack.size() - 1);
     }
 
+    /**
+     * Same as above but for the move of the index, null if the move is not in the stack.
+     */
     public BRHistory historyFor(int moveIndex) {
-        return historyStack.getOrDefault(moveIndex, null);
+        return historyStack.get(moveIndex);
     }
 
     public int moveIndexOfLastChange() {
-        if (historyStack.isEmpty()) return -1;
-        return historyStack.get(historyStack.size() - 1).moveIndex();
+        return historyStack.size() - 1;
     }
 
     /**
      * Saves the BRHistory object with the zero-based index of the move in
-     * the history stack.
+     * the history stack. The index must be within the stack or the next one
+     * after the last move.
      */
     public void saveChange(BRHistory history) {
-        historyStack.put(history.moveIndex(), history);
+        int moveIndex = history.moveIndex();
+        if (moveIndex < historyStack.size()) dropCheckpoints(moveIndex);
+        historyStack.save(history);
+
+        // a move played & saved right after the repo has moved to it, as the Game does
+        if (moveIndex == repo.currentIndex()) checkpoint(moveIndex);
+    }
+
+    /**
+     * Number of times the position the historian has gone to has appeared in the game so far, counting
+     * itself. The positions are compared by their zobrist keys saved with the changes, so nothing is
+     * replayed or hashed again. Only the positions since the last capture or pawn move, which the
+     * half-move clock of the BR counts, can be the same, so the search stops there.
+     */
+    public int repetitions() {
+        int moveIndex = repo.currentIndex();
+        long hash = br.hash();
+
+        // a position can only repeat with the same army to move, so every other one is skipped
+        int oldest = Math.max(moveIndex - br.halfMoveClock(), -1);
+        int count = 1;
+        for (int i = moveIndex - 2; i >= oldest; i -= 2)
+            if (historyStack.hash(i + 1) == hash) count++;
+        return count;
+    }
+
+    /**
+     * Whether the position has appeared three times, so the game can be drawn by repetition.
+     */
+    public boolean isThreefoldRepetition() {
+        return repetitions() >= 3;
+    }
+
+    /**
+     * Whether fifty moves of each army have been played without a capture or a pawn move, so the
+     * game can be drawn by the fifty-move rule.
+     */
+    public boolean isFiftyMoveRule() {
+        return br.halfMoveClock() >= 100;
     }
 
     public int numOfChanges() {
@@ -184,18 +293,19 @@ public class BRHistorian extends RepoListener {
     @Override
     public void onRepoInvalided() {
         historyStack.clear();
+        checkpoints.clear();
     }
 
     /**
      * Change stack needs to update and discard those changes which are not valid anymore because of
-     * the recent change in the repository. This method loops through the change stack and keep
-     * removing the changes up to the overridden index inclusive so that next move can be played by
+     * the recent change in the repository. This method drops the changes from the end of the change
+     * stack down to the overridden index inclusive so that next move can be played by
      * the MoveMaker and the move maker can save changes relating to that move.
      */
     @Override
     public void onRepoMoveOverride(int moveIndex) {
-        for (int i = moveIndexOfLastChange(); i >= moveIndex; i--)
-            historyStack.remove(i);
+        historyStack.truncate(moveIndex);
+        dropCheckpoints(moveIndex);
     }
 
 }
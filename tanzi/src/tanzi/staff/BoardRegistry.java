@@ -1,13 +1,15 @@
 package tanzi.staff;
 
 import org.jetbrains.annotations.Nullable;
+import tanzi.algorithm.EnPassant;
+import tanzi.algorithm.FEN;
 import tanzi.model.*;
 import tanzi.pool.BufferedBRPool;
+import tanzi.pool.PiecePool;
 import tanzi.protocol.BRChangeListener;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 public class BoardRegistry {
 
@@ -19,6 +21,14 @@ public class BoardRegistry {
     // the listener(UI) only about the last change.
     private boolean changeReflection = true;
 
+    /*
+     * while a batch of changes is open, the pieces placed & lifted are collected into the diff instead
+     * of being told to the listener one by one. the batches can be nested, the diff is delivered when
+     * the outermost one ends.
+     * */
+    private final BRDiff diff = new BRDiff();
+    private int batchDepth;
+
     /**
      * Here enPasser holds the en-passer objects of opposite army. The en-passer previously
      * en-passed it's army.
@@ -29,40 +39,104 @@ public class BoardRegistry {
      */
     protected EnPasser enpasserWhite, enpasserBlack;
 
-    // knows which index holds which piece of which color with square name
-    protected HashMap<String, Piece> squarePiece;
+    // knows which piece stands on which square, indexed by the int square
+    protected Piece[] board;
+
+    // one bitboard for each piece type of each army such as typeBoard[COLOR_WHITE][Piece.PAWN]
+    protected long[][] typeBoard;
+
+    // occupancy bitboards for each army and for the whole board
+    protected long[] armyBoard;
+    protected long occupied;
+
+    /*
+     * castle rights as bit flags. an army has the right to castle to a side as long as neither its
+     * king nor the rook of that side has moved. whether the castle is playable right now is up to
+     * the King algorithm.
+     * */
+    public static final int CASTLE_WHITE_KING_SIDE = 1;
+    public static final int CASTLE_WHITE_QUEEN_SIDE = 2;
+    public static final int CASTLE_BLACK_KING_SIDE = 4;
+    public static final int CASTLE_BLACK_QUEEN_SIDE = 8;
+
+    // the army to play the next move
+    protected int sideToMove = Piece.COLOR_WHITE;
+
+    // current castle rights, kept up to date whenever a king or a rook leaves or lands on its home square
+    protected int castleRights;
+
+    // zobrist key of the position, see the Zobrist class
+    protected long hash;
+
+    // moves since the last capture or pawn move & the number of the full move, as they are in FEN
+    protected int halfMoveClock;
+    protected int fullMoveNumber = 1;
+
+    /*
+     * pins & checks of each army, calculated on request for the position. the change count goes up
+     * whenever a piece is placed or lifted, so the info is only recalculated if the board has changed
+     * since it was calculated.
+     * */
+    protected int changeCount;
+    private final CheckInfo[] checkInfo = {new CheckInfo(), new CheckInfo()};
+    private final int[] checkInfoChange = {-1, -1};
 
     // this data-structures holds OS and helpful methods to efficiently deal with King
     protected OctalSquare osWhite;
     protected OctalSquare osBlack;
 
+    /*
+     * journal of the changes made by makeMove() so that unmakeMove() can revert them in reverse
+     * order. each entry is a kind of change with the squares and the objects it needs to be
+     * reverted. the arrays only grow, so making & unmaking moves doesn't allocate once they are
+     * big enough.
+     * */
+    private static final int UNDO_CAPTURE = 0;
+    private static final int UNDO_RELOCATE = 1;
+    private static final int UNDO_ENPASSER = 2;
+    private static final int UNDO_KING_SQUARE = 3;
+    private static final int UNDO_SIDE_TO_MOVE = 4;
+    private static final int UNDO_COUNTERS = 5;
+
+    private int[] undoKind = new int[32];
+    private int[] undoFrom = new int[32];
+    private int[] undoTo = new int[32];
+    private Object[] undoRef = new Object[32];
+    private Piece[] undoMemo = new Piece[32];
+    private int undoSize;
+
     public BoardRegistry() {
+        board = new Piece[64];
+        typeBoard = new long[2][6];
+        armyBoard = new long[2];
         initSquarePieceRegistry();
-        osWhite = new OctalSquare(Square.forIndex(Square.E1));
-        osBlack = new OctalSquare(Square.forIndex(Square.E8));
+        osWhite = new OctalSquare(Square.name(Square.E1));
+        osBlack = new OctalSquare(Square.name(Square.E8));
     }
 
     /**
      * Returns the number of pieces in the BR.
      */
     public int pieceCount() {
-        return squarePiece.size();
+        return Bitboard.count(occupied);
     }
 
     public synchronized void add(Piece piece) {
         String squareKey = piece.currentSquare();
-        if (squarePiece.containsKey(squareKey)) return;
-        squarePiece.put(squareKey, piece);
+        int index = Square.of(squareKey);
+        if (index == Square.NONE || board[index] != null) return;
+        place(piece, index);
 
         // also let the change listener about this update
-        if (listener != null && changeReflection) listener.onPieceAddedToBR(squareKey, Piece.clone(piece));
+        if (listener != null && changeReflection && batchDepth == 0) listener.onPieceAddedToBR(squareKey, Piece.clone(piece));
     }
 
     public synchronized Piece delete(String square) {
-        Piece piece = squarePiece.remove(square);
+        int index = Square.of(square);
+        Piece piece = index == Square.NONE ? null : lift(index);
 
         // notify the listener about this deletion
-        if (listener != null && changeReflection) listener.onPieceDeletedFromBR(square, Piece.clone(piece));
+        if (listener != null && changeReflection && batchDepth == 0) listener.onPieceDeletedFromBR(square, Piece.clone(piece));
 
         return piece;
     }
@@ -87,12 +161,239 @@ public class BoardRegistry {
         return piece;
     }
 
+    /**
+     * The type of piece on the square can be changed in place by this method, for example when a
+     * pawn gets promoted in a buffered BR. The piece must not be changed directly by its type field
+     * while it is in the BR, otherwise the bitboards would no longer reflect the piece.
+     */
+    public void promote(String square, int type) {
+        int index = Square.of(square);
+        if (index == Square.NONE || board[index] == null) return;
+
+        Piece piece = lift(index);
+        piece.type = type;
+        place(piece, index);
+    }
+
+    /**
+     * Makes a move on this BR in place without notifying the change listener. The piece on the
+     * destination square is captured if there is any. En-passant capture, the rook of a castle move,
+     * promotion, the en-passers of both armies and the king squares are all taken care of like a
+     * move played on the board.
+     * <p>
+     * Algorithms use this to see the board after a move instead of making a copy of the BR. Each
+     * call must be paired with {@link #unmakeMove(int)} with the returned mark, in reverse order of
+     * the calls, so that the BR is exactly the same as before. The unmakeMove() goes in a finally
+     * block, so that an exception while looking at the board doesn't leave the BR half-moved.
+     *
+     * @param promotionType the type the pawn gets promoted to, -1 for no promotion
+     * @return the mark to pass to unmakeMove()
+     */
+    public int makeMove(int from, int to, int promotionType) {
+        int mark = undoSize;
+
+        Piece piece = board[from];
+        if (piece == null) return mark;
+
+        int color = piece.color;
+        boolean pawn = piece.type == Piece.PAWN;
+
+        // the en-passer of the enemy gets taken if the pawn goes to its intermediate square
+        int capturesFrom = undoSize;
+        EnPasser enPasser = restoreEnPasser(color);
+        if (pawn && EnPassant.amIEnpasserTaker(from, enPasser) && to == Square.of(enPasser.intermediateSquare))
+            capture(Square.of(enPasser.nowSquare));
+
+        // the pawn may pass the enemy pawns by this move, which must be known before it moves
+        EnPasser newEnPasser = pawn ? EnPassant.amIEnpasser(Square.name(from), Square.name(to), this) : null;
+
+        capture(to);
+        boolean captured = undoSize > capturesFrom;
+        relocate(from, to, promotionType);
+
+        if (piece.type == Piece.KING) {
+            // the king going two files along its rank is castle, so the rook jumps over it
+            int fileStep = Square.fileIndex(to) - Square.fileIndex(from);
+            if ((fileStep == 2 || fileStep == -2) && Square.rankAsInt(from) == Square.rankAsInt(to)) {
+                int rookFrom = Square.of(fileStep > 0 ? 7 : 0, Square.rankAsInt(from));
+                int rookTo = fileStep > 0 ? to - 1 : to + 1;
+                if (board[rookFrom] != null) relocate(rookFrom, rookTo, -1);
+            }
+            changeKingSquare(color, Square.name(to));
+        }
+
+        // any en-passer this army could take is gone after the move
+        changeEnPasser(color, null);
+        if (newEnPasser != null) changeEnPasser(newEnPasser.takerColor, newEnPasser);
+
+        record(UNDO_COUNTERS, halfMoveClock, fullMoveNumber, null, null);
+        halfMoveClock = pawn || captured ? 0 : halfMoveClock + 1;
+        if (color == Piece.COLOR_BLACK) fullMoveNumber++;
+
+        record(UNDO_SIDE_TO_MOVE, sideToMove, sideToMove, null, null);
+        setSideToMove(Piece.getOppositeColor(color));
+
+        return mark;
+    }
+
+    /**
+     * Reverts all the moves made by makeMove() on this BR after the mark was returned.
+     */
+    public void unmakeMove(int mark) {
+        while (undoSize > mark) {
+            int i = --undoSize;
+            switch (undoKind[i]) {
+                case UNDO_CAPTURE -> place((Piece) undoRef[i], undoFrom[i]);
+                case UNDO_RELOCATE -> {
+                    Piece piece = lift(undoTo[i]);
+                    piece.restore(undoMemo[i]);
+                    PiecePool.recycle(undoMemo[i]);
+                    place(piece, undoFrom[i]);
+                }
+                case UNDO_ENPASSER -> setEnPasser(undoFrom[i], (EnPasser) undoRef[i]);
+                case UNDO_KING_SQUARE -> updateOSSquare(undoFrom[i], (String) undoRef[i]);
+                case UNDO_SIDE_TO_MOVE -> setSideToMove(undoFrom[i]);
+                case UNDO_COUNTERS -> setMoveCounters(undoFrom[i], undoTo[i]);
+            }
+            undoRef[i] = null;
+            undoMemo[i] = null;
+        }
+    }
+
+    /*
+     * these methods change the BR for makeMove() and record how to revert each change.
+     * */
+
+    private void capture(int square) {
+        Piece piece = lift(square);
+        if (piece != null) record(UNDO_CAPTURE, square, square, piece, null);
+    }
+
+    private void relocate(int from, int to, int promotionType) {
+        Piece piece = lift(from);
+        record(UNDO_RELOCATE, from, to, piece, Piece.clone(piece));
+
+        piece.setCurrentSquare(Square.name(to));
+        if (promotionType != -1) piece.type = promotionType;
+        place(piece, to);
+    }
+
+    private void changeEnPasser(int takerColor, EnPasser enPasser) {
+        EnPasser previous = restoreEnPasser(takerColor);
+        if (previous == enPasser) return;
+        record(UNDO_ENPASSER, takerColor, takerColor, previous, null);
+        setEnPasser(takerColor, enPasser);
+    }
+
+    private void changeKingSquare(int color, String kingSquare) {
+        OctalSquare octalSquare = (color == Piece.COLOR_WHITE) ? osWhite : osBlack;
+        record(UNDO_KING_SQUARE, color, color, octalSquare.getKingSquare(), null);
+        octalSquare.updateOS(kingSquare);
+    }
+
+    private void record(int kind, int from, int to, Object ref, Piece memo) {
+        if (undoSize == undoKind.length) {
+            int capacity = undoSize << 1;
+            undoKind = Arrays.copyOf(undoKind, capacity);
+            undoFrom = Arrays.copyOf(undoFrom, capacity);
+            undoTo = Arrays.copyOf(undoTo, capacity);
+            undoRef = Arrays.copyOf(undoRef, capacity);
+            undoMemo = Arrays.copyOf(undoMemo, capacity);
+        }
+
+        undoKind[undoSize] = kind;
+        undoFrom[undoSize] = from;
+        undoTo[undoSize] = to;
+        undoRef[undoSize] = ref;
+        undoMemo[undoSize] = memo;
+        undoSize++;
+    }
+
+    /*
+     * these two methods are the only places where the piece array and the bitboards are written
+     * so that they always agree with each other. the zobrist key & the castle rights are updated
+     * along with them.
+     * */
+
+    private void place(Piece piece, int index) {
+        if (batchDepth > 0) diff.touch(index, board[index]);
+
+        long bit = Bitboard.bit(index);
+        board[index] = piece;
+        typeBoard[piece.color][piece.type] |= bit;
+        armyBoard[piece.color] |= bit;
+        occupied |= bit;
+        changeCount++;
+
+        hash ^= Zobrist.piece(piece.color, piece.type, index);
+        if (piece.type == Piece.KING || piece.type == Piece.ROOK) updateCastleRights();
+    }
+
+    private Piece lift(int index) {
+        Piece piece = board[index];
+        if (piece == null) return null;
+        if (batchDepth > 0) diff.touch(index, piece);
+
+        long bit = ~Bitboard.bit(index);
+        board[index] = null;
+        typeBoard[piece.color][piece.type] &= bit;
+        armyBoard[piece.color] &= bit;
+        occupied &= bit;
+        changeCount++;
+
+        hash ^= Zobrist.piece(piece.color, piece.type, index);
+        if (piece.type == Piece.KING || piece.type == Piece.ROOK) updateCastleRights();
+        return piece;
+    }
+
+    private void updateCastleRights() {
+        int rights = 0;
+        if (unmoved(4, Piece.KING, Piece.COLOR_WHITE)) {
+            if (unmoved(7, Piece.ROOK, Piece.COLOR_WHITE)) rights |= CASTLE_WHITE_KING_SIDE;
+            if (unmoved(0, Piece.ROOK, Piece.COLOR_WHITE)) rights |= CASTLE_WHITE_QUEEN_SIDE;
+        }
+        if (unmoved(60, Piece.KING, Piece.COLOR_BLACK)) {
+            if (unmoved(63, Piece.ROOK, Piece.COLOR_BLACK)) rights |= CASTLE_BLACK_KING_SIDE;
+            if (unmoved(56, Piece.ROOK, Piece.COLOR_BLACK)) rights |= CASTLE_BLACK_QUEEN_SIDE;
+        }
+
+        if (rights == castleRights) return;
+        hash ^= Zobrist.castle(castleRights) ^ Zobrist.castle(rights);
+        castleRights = rights;
+    }
+
+    private boolean unmoved(int square, int type, int color) {
+        Piece piece = board[square];
+        return piece != null && piece.type == type && piece.color == color && !piece.hasMoved();
+    }
+
+    // the en-passers & the side to move are only written by these two methods for the same reason
+    private void setEnPasser(int takerColor, EnPasser enPasser) {
+        hash ^= Zobrist.enPasser(restoreEnPasser(takerColor)) ^ Zobrist.enPasser(enPasser);
+        if (takerColor == Piece.COLOR_WHITE) enpasserWhite = enPasser;
+        else enpasserBlack = enPasser;
+    }
+
+    /**
+     * Sets the army to play the next move. BRHistory sets it on undo & redo, makeMove() sets it
+     * for the moves it makes.
+     */
+    public void setSideToMove(int color) {
+        hash ^= Zobrist.side(sideToMove) ^ Zobrist.side(color);
+        sideToMove = color;
+    }
+
     /*
      * for a move specified by destination square and army color, this method can tell whether it
      * is killing its own army or not
      * */
     public boolean killingOwnArmy(String square, int ownColor) {
-        Piece piece = piece(square);
+        return killingOwnArmy(Square.of(square), ownColor);
+    }
+
+    public boolean killingOwnArmy(int square, int ownColor) {
+        if (square == Square.NONE) return false;
+        Piece piece = board[square];
 
         // no piece is on the destination square the piece wants to go
         if (piece == null) return false;
@@ -106,13 +407,24 @@ public class BoardRegistry {
         BufferedBR br = BufferedBRPool.get();
 
         // update properties of new board registry accordingly
-        BufferedBR.copySquarePieceMap(squarePiece, br.squarePiece);
+        BufferedBR.copyBoard(board, br.board);
+        for (int color = 0; color < 2; color++)
+            System.arraycopy(typeBoard[color], 0, br.typeBoard[color], 0, 6);
+        System.arraycopy(armyBoard, 0, br.armyBoard, 0, 2);
+        br.occupied = occupied;
+
         br.osWhite.updateOS(osWhite.getKingSquare());
         br.osBlack.updateOS(osBlack.getKingSquare());
 
-        if (enpasserWhite != null) br.storeEnPasser(enpasserWhite.copy());
+        br.enpasserWhite = enpasserWhite == null ? null : enpasserWhite.copy();
+        br.enpasserBlack = enpasserBlack == null ? null : enpasserBlack.copy();
 
-        if (enpasserBlack != null) br.storeEnPasser(enpasserBlack.copy());
+        br.sideToMove = sideToMove;
+        br.castleRights = castleRights;
+        br.hash = hash;
+        br.halfMoveClock = halfMoveClock;
+        br.fullMoveNumber = fullMoveNumber;
+        br.changeCount++;
 
         return br;
     }
@@ -125,12 +437,35 @@ public class BoardRegistry {
      * Board Registry, Last Move Meta, enPassant etc. get destroyed and reset.
      * */
     public void __clear() {
-        squarePiece.clear();
+        // the pieces of a batch are cleared off the board as if they were lifted
+        for (long bb = batchDepth > 0 ? occupied : 0; bb != 0; bb &= bb - 1) {
+            int index = Bitboard.first(bb);
+            diff.touch(index, board[index]);
+        }
+
+        Arrays.fill(board, null);
+        for (long[] bitboards : typeBoard) Arrays.fill(bitboards, Bitboard.EMPTY);
+        Arrays.fill(armyBoard, Bitboard.EMPTY);
+        occupied = Bitboard.EMPTY;
+
         osWhite.__clear();
         osBlack.__clear();
 
         enpasserWhite = null;
         enpasserBlack = null;
+
+        // an empty board with white to move has no key
+        sideToMove = Piece.COLOR_WHITE;
+        castleRights = 0;
+        hash = 0L;
+        halfMoveClock = 0;
+        fullMoveNumber = 1;
+        changeCount++;
+
+        // nothing left to unmake on a cleared board
+        Arrays.fill(undoRef, 0, undoSize, null);
+        Arrays.fill(undoMemo, 0, undoSize, null);
+        undoSize = 0;
     }
 
     public void __clearAndSetup() {
@@ -143,6 +478,61 @@ public class BoardRegistry {
         if (listener != null) listener.onBRClear();
     }
 
+    /**
+     * Same as above but the board is set up with the position written in FEN instead of the initial
+     * position. The pieces are placed silently and the listener is notified about the reset once.
+     * It throws IllegalArgumentException for an invalid FEN, in which case the BR is left as it is.
+     */
+    public void __clearAndSetup(String fen) {
+        boolean reflection = changeReflection;
+        changeReflection = false;
+        try {
+            FEN.read(fen, this);
+        } finally {
+            changeReflection = reflection;
+        }
+
+        if (listener != null) listener.onBRClear();
+    }
+
+    /**
+     * Encodes the position into a compact int array, which can be put back on this or any other BR
+     * by {@link #restore(int[])}. It holds the army to move & the en-passers in the first int, the move
+     * counters in the next two and then each piece packed by {@link Piece#pack()}, which also keeps
+     * the castle rights by the moved state of the kings & rooks.
+     */
+    public int[] snapshot() {
+        int[] snapshot = new int[3 + pieceCount()];
+        snapshot[0] = sideToMove | (EnPasser.pack(enpasserWhite) << 1) | (EnPasser.pack(enpasserBlack) << 11);
+        snapshot[1] = halfMoveClock;
+        snapshot[2] = fullMoveNumber;
+
+        int i = 3;
+        for (long bb = occupied; bb != 0; bb &= bb - 1)
+            snapshot[i++] = board[Bitboard.first(bb)].pack();
+        return snapshot;
+    }
+
+    /**
+     * Clears the BR and puts the position of the snapshot back on it. The pieces are placed
+     * silently, and the listener is told to invalidate itself once unless the reflection is paused.
+     */
+    public void restore(int[] snapshot) {
+        __clear();
+        for (int i = 3; i < snapshot.length; i++) {
+            Piece piece = Piece.unpack(snapshot[i]);
+            place(piece, Square.of(piece.currentSquare()));
+            if (piece.type == Piece.KING) updateOSSquare(piece.color, piece.currentSquare());
+        }
+
+        setSideToMove(snapshot[0] & 1);
+        storeEnPasser(EnPasser.unpack((snapshot[0] >>> 1) & 1023));
+        storeEnPasser(EnPasser.unpack((snapshot[0] >>> 11) & 1023));
+        setMoveCounters(snapshot[1], snapshot[2]);
+
+        if (listener != null && changeReflection && batchDepth == 0) listener.onInvalidation();
+    }
+
     /**
      * this method updates OS square for the king & keeps in an ArrayList to avoid unnecessary
      * future calculation as king often moves less compared to other piece moves. you should
@@ -174,7 +564,11 @@ public class BoardRegistry {
     }
 
     public boolean anyPieceOn(String squareKey) {
-        return squarePiece.containsKey(squareKey);
+        return anyPieceOn(Square.of(squareKey));
+    }
+
+    public boolean anyPieceOn(int square) {
+        return square != Square.NONE && Bitboard.has(occupied, square);
     }
 
     /*
@@ -183,15 +577,18 @@ public class BoardRegistry {
      * */
     public ArrayList<String> squaresOfArmy(int color) {
         ArrayList<String> squares = new ArrayList<>();
-        for (Map.Entry<String, Piece> entry : squarePiece.entrySet()) {
-            Piece piece = entry.getValue();
-            if (piece.color == color) squares.add(piece.currentSquare());
-        }
+        for (long bb = armyBoard[color]; bb != 0; bb &= bb - 1)
+            squares.add(board[Bitboard.first(bb)].currentSquare());
         return squares;
     }
 
     public Piece piece(String squareKey) {
-        return squarePiece.getOrDefault(squareKey, null);
+        return piece(Square.of(squareKey));
+    }
+
+    // returns the piece on the int square, see the Square class for int squares
+    public Piece piece(int square) {
+        return square == Square.NONE ? null : board[square];
     }
 
     /**
@@ -199,100 +596,150 @@ public class BoardRegistry {
      * return the first one it gets.
      */
     public Piece piece(int type, int color) {
-        for (Map.Entry<String, Piece> entry : squarePiece.entrySet()) {
-            Piece piece = entry.getValue();
-            if (piece.type == type && piece.color == color) return piece;
+        long bb = typeBoard[color][type];
+        return bb == 0 ? null : board[Bitboard.first(bb)];
+    }
+
+    /*
+     * the raw bitboards of the BR. these are exposed for the algorithms which can answer their
+     * questions with bit operations. the returned values are copies; changing them has no effect
+     * on the BR.
+     * */
+
+    public long bitboard(int type, int color) {
+        return typeBoard[color][type];
+    }
+
+    public long armyBitboard(int color) {
+        return armyBoard[color];
+    }
+
+    public long occupancy() {
+        return occupied;
+    }
+
+    /**
+     * Returns the zobrist key of the position. Two positions with the same pieces on the same
+     * squares, the same castle rights, the same en-passer & the same army to move have the same key.
+     */
+    public long hash() {
+        return hash;
+    }
+
+    /**
+     * Returns the pins & checks on the king of the army for the current position. The returned
+     * object is reused by the BR, so it is only valid until the next change to the BR.
+     */
+    public CheckInfo checkInfo(int color) {
+        if (checkInfoChange[color] != changeCount) {
+            checkInfo[color].calculate(color, this);
+            checkInfoChange[color] = changeCount;
         }
-        return null;
+        return checkInfo[color];
+    }
+
+    public int sideToMove() {
+        return sideToMove;
+    }
+
+    public int halfMoveClock() {
+        return halfMoveClock;
+    }
+
+    public int fullMoveNumber() {
+        return fullMoveNumber;
+    }
+
+    /**
+     * Sets the half-move clock & the full move number, for example when the BR is set up for a
+     * position. Moves made on the BR keep them up to date afterwards.
+     */
+    public void setMoveCounters(int halfMoveClock, int fullMoveNumber) {
+        this.halfMoveClock = halfMoveClock;
+        this.fullMoveNumber = fullMoveNumber;
+    }
+
+    // combination of the CASTLE_ flags
+    public int castleRights() {
+        return castleRights;
     }
 
     /*
      * these methods return the list of pieces as specified by the type, color, file and rank.
-     * they will search through the registry to match pieces against the given arguments.
+     * they mask the bitboard of the piece type with the file or the rank to match pieces against
+     * the given arguments.
      * */
 
     public ArrayList<Piece> registeredPiece() {
-        ArrayList<Piece> pieceArrayList = new ArrayList<>();
-        for (Map.Entry<String, Piece> entry : squarePiece.entrySet()) {
-            pieceArrayList.add(entry.getValue());
-        }
-        return pieceArrayList;
+        return piecesOn(occupied);
     }
 
     public ArrayList<Piece> pieceOf(int type) {
-        ArrayList<Piece> list = new ArrayList<>();
-        for (Map.Entry<String, Piece> entry : squarePiece.entrySet()) {
-            Piece piece = entry.getValue();
-            if (piece.type == type) list.add(piece);
-        }
-        return list;
+        return piecesOn(typeBoard[Piece.COLOR_WHITE][type] | typeBoard[Piece.COLOR_BLACK][type]);
     }
 
     public ArrayList<Piece> pieceOf(int type, int color) {
-        ArrayList<Piece> pieceArrayList = new ArrayList<>();
-        for (Map.Entry<String, Piece> entry : squarePiece.entrySet()) {
-            Piece piece = entry.getValue();
-            if (piece.color == color && piece.type == type) pieceArrayList.add(piece);
-        }
-        return pieceArrayList;
+        return piecesOn(typeBoard[color][type]);
     }
 
     public ArrayList<Piece> pieceByFile(char file, int type, int color) {
-        ArrayList<Piece> pieceArrayList = new ArrayList<>();
-        for (Map.Entry<String, Piece> entry : squarePiece.entrySet()) {
-            Piece piece = entry.getValue();
-            if (piece.getFile() == file && piece.color == color && piece.type == type) pieceArrayList.add(piece);
-        }
-        return pieceArrayList;
+        if (file < 'a' || file > 'h') return new ArrayList<>();
+        return piecesOn(typeBoard[color][type] & Bitboard.fileMask(file - 'a'));
     }
 
     public ArrayList<Piece> pieceByRank(int rank, int type, int color) {
-        ArrayList<Piece> pieceArrayList = new ArrayList<>();
-        for (Map.Entry<String, Piece> entry : squarePiece.entrySet()) {
-            Piece piece = entry.getValue();
-            if (piece.getRank() == rank && piece.color == color && piece.type == type) pieceArrayList.add(piece);
-        }
+        if (rank < 1 || rank > 8) return new ArrayList<>();
+        return piecesOn(typeBoard[color][type] & Bitboard.rankMask(rank));
+    }
+
+    private ArrayList<Piece> piecesOn(long bitboard) {
+        ArrayList<Piece> pieceArrayList = new ArrayList<>(Bitboard.count(bitboard));
+        for (long bb = bitboard; bb != 0; bb &= bb - 1)
+            pieceArrayList.add(board[Bitboard.first(bb)]);
         return pieceArrayList;
     }
 
+    private void put(Piece piece) {
+        place(piece, Square.of(piece.currentSquare()));
+    }
+
     private void initSquarePieceRegistry() {
-        squarePiece = new HashMap<>(64);
-
-        squarePiece.put("a8", new Piece(Piece.ROOK, Piece.COLOR_BLACK, "a8", "a8"));
-        squarePiece.put("b8", new Piece(Piece.KNIGHT, Piece.COLOR_BLACK, "b8", "b8"));
-        squarePiece.put("c8", new Piece(Piece.BISHOP, Piece.COLOR_BLACK, "c8", "c8"));
-        squarePiece.put("d8", new Piece(Piece.QUEEN, Piece.COLOR_BLACK, "d8", "d8"));
-        squarePiece.put("e8", new Piece(Piece.KING, Piece.COLOR_BLACK, "e8", "e8"));
-        squarePiece.put("f8", new Piece(Piece.BISHOP, Piece.COLOR_BLACK, "f8", "f8"));
-        squarePiece.put("g8", new Piece(Piece.KNIGHT, Piece.COLOR_BLACK, "g8", "g8"));
-        squarePiece.put("h8", new Piece(Piece.ROOK, Piece.COLOR_BLACK, "h8", "h8"));
-
-        squarePiece.put("a7", new Piece(Piece.PAWN, Piece.COLOR_BLACK, "a7", "a7"));
-        squarePiece.put("b7", new Piece(Piece.PAWN, Piece.COLOR_BLACK, "b7", "b7"));
-        squarePiece.put("c7", new Piece(Piece.PAWN, Piece.COLOR_BLACK, "c7", "c7"));
-        squarePiece.put("d7", new Piece(Piece.PAWN, Piece.COLOR_BLACK, "d7", "d7"));
-        squarePiece.put("e7", new Piece(Piece.PAWN, Piece.COLOR_BLACK, "e7", "e7"));
-        squarePiece.put("f7", new Piece(Piece.PAWN, Piece.COLOR_BLACK, "f7", "f7"));
-        squarePiece.put("g7", new Piece(Piece.PAWN, Piece.COLOR_BLACK, "g7", "g7"));
-        squarePiece.put("h7", new Piece(Piece.PAWN, Piece.COLOR_BLACK, "h7", "h7"));
-
-        squarePiece.put("a2", new Piece(Piece.PAWN, Piece.COLOR_WHITE, "a2", "a2"));
-        squarePiece.put("b2", new Piece(Piece.PAWN, Piece.COLOR_WHITE, "b2", "b2"));
-        squarePiece.put("c2", new Piece(Piece.PAWN, Piece.COLOR_WHITE, "c2", "c2"));
-        squarePiece.put("d2", new Piece(Piece.PAWN, Piece.COLOR_WHITE, "d2", "d2"));
-        squarePiece.put("e2", new Piece(Piece.PAWN, Piece.COLOR_WHITE, "e2", "e2"));
-        squarePiece.put("f2", new Piece(Piece.PAWN, Piece.COLOR_WHITE, "f2", "f2"));
-        squarePiece.put("g2", new Piece(Piece.PAWN, Piece.COLOR_WHITE, "g2", "g2"));
-        squarePiece.put("h2", new Piece(Piece.PAWN, Piece.COLOR_WHITE, "h2", "h2"));
-
-        squarePiece.put("a1", new Piece(Piece.ROOK, Piece.COLOR_WHITE, "a1", "a1"));
-        squarePiece.put("b1", new Piece(Piece.KNIGHT, Piece.COLOR_WHITE, "b1", "b1"));
-        squarePiece.put("c1", new Piece(Piece.BISHOP, Piece.COLOR_WHITE, "c1", "c1"));
-        squarePiece.put("d1", new Piece(Piece.QUEEN, Piece.COLOR_WHITE, "d1", "d1"));
-        squarePiece.put("e1", new Piece(Piece.KING, Piece.COLOR_WHITE, "e1", "e1"));
-        squarePiece.put("f1", new Piece(Piece.BISHOP, Piece.COLOR_WHITE, "f1", "f1"));
-        squarePiece.put("g1", new Piece(Piece.KNIGHT, Piece.COLOR_WHITE, "g1", "g1"));
-        squarePiece.put("h1", new Piece(Piece.ROOK, Piece.COLOR_WHITE, "h1", "h1"));
+
+        put(new Piece(Piece.ROOK, Piece.COLOR_BLACK, "a8", "a8"));
+        put(new Piece(Piece.KNIGHT, Piece.COLOR_BLACK, "b8", "b8"));
+        put(new Piece(Piece.BISHOP, Piece.COLOR_BLACK, "c8", "c8"));
+        put(new Piece(Piece.QUEEN, Piece.COLOR_BLACK, "d8", "d8"));
+        put(new Piece(Piece.KING, Piece.COLOR_BLACK, "e8", "e8"));
+        put(new Piece(Piece.BISHOP, Piece.COLOR_BLACK, "f8", "f8"));
+        put(new Piece(Piece.KNIGHT, Piece.COLOR_BLACK, "g8", "g8"));
+        put(new Piece(Piece.ROOK, Piece.COLOR_BLACK, "h8", "h8"));
+
+        put(new Piece(Piece.PAWN, Piece.COLOR_BLACK, "a7", "a7"));
+        put(new Piece(Piece.PAWN, Piece.COLOR_BLACK, "b7", "b7"));
+        put(new Piece(Piece.PAWN, Piece.COLOR_BLACK, "c7", "c7"));
+        put(new Piece(Piece.PAWN, Piece.COLOR_BLACK, "d7", "d7"));
+        put(new Piece(Piece.PAWN, Piece.COLOR_BLACK, "e7", "e7"));
+        put(new Piece(Piece.PAWN, Piece.COLOR_BLACK, "f7", "f7"));
+        put(new Piece(Piece.PAWN, Piece.COLOR_BLACK, "g7", "g7"));
+        put(new Piece(Piece.PAWN, Piece.COLOR_BLACK, "h7", "h7"));
+
+        put(new Piece(Piece.PAWN, Piece.COLOR_WHITE, "a2", "a2"));
+        put(new Piece(Piece.PAWN, Piece.COLOR_WHITE, "b2", "b2"));
+        put(new Piece(Piece.PAWN, Piece.COLOR_WHITE, "c2", "c2"));
+        put(new Piece(Piece.PAWN, Piece.COLOR_WHITE, "d2", "d2"));
+        put(new Piece(Piece.PAWN, Piece.COLOR_WHITE, "e2", "e2"));
+        put(new Piece(Piece.PAWN, Piece.COLOR_WHITE, "f2", "f2"));
+        put(new Piece(Piece.PAWN, Piece.COLOR_WHITE, "g2", "g2"));
+        put(new Piece(Piece.PAWN, Piece.COLOR_WHITE, "h2", "h2"));
+
+        put(new Piece(Piece.ROOK, Piece.COLOR_WHITE, "a1", "a1"));
+        put(new Piece(Piece.KNIGHT, Piece.COLOR_WHITE, "b1", "b1"));
+        put(new Piece(Piece.BISHOP, Piece.COLOR_WHITE, "c1", "c1"));
+        put(new Piece(Piece.QUEEN, Piece.COLOR_WHITE, "d1", "d1"));
+        put(new Piece(Piece.KING, Piece.COLOR_WHITE, "e1", "e1"));
+        put(new Piece(Piece.BISHOP, Piece.COLOR_WHITE, "f1", "f1"));
+        put(new Piece(Piece.KNIGHT, Piece.COLOR_WHITE, "g1", "g1"));
+        put(new Piece(Piece.ROOK, Piece.COLOR_WHITE, "h1", "h1"));
     }
 
     /**
@@ -301,8 +748,7 @@ public class BoardRegistry {
      */
     public void storeEnPasser(EnPasser enPasser) {
         if (enPasser == null) return;
-        if (enPasser.takerColor == Piece.COLOR_BLACK) enpasserBlack = enPasser;
-        else enpasserWhite = enPasser;
+        setEnPasser(enPasser.takerColor, enPasser);
     }
 
     public EnPasser restoreEnPasser(int takerColor) {
@@ -317,8 +763,7 @@ public class BoardRegistry {
      * in the BR for that army in their next moves unless their enemy make another en-passant move.
      */
     public void clearEnPasserFor(int color) {
-        if (color == Piece.COLOR_WHITE) enpasserWhite = null;
-        else enpasserBlack = null;
+        setEnPasser(color, null);
     }
 
     public void setChangeListener(BRChangeListener listener) {
@@ -358,6 +803,30 @@ public class BoardRegistry {
         if (listener != null) listener.onInvalidation();
     }
 
+    /**
+     * Opens a batch of changes. Until the batch is ended by {@link #endChanges()}, the listener is
+     * not told about each piece added or deleted. Instead, the net change of the pieces is delivered
+     * once at the end by {@link BRChangeListener#onBRChanges(BRDiff)}, so a navigation across many
+     * moves updates the listener with only the squares which have changed.
+     * <p>
+     * The batches can be nested, in which case the diff covers the outermost one.
+     */
+    public void beginChanges() {
+        if (batchDepth++ == 0) diff.clear();
+    }
+
+    /**
+     * Ends the batch opened by {@link #beginChanges()}. The diff is delivered unless nothing has
+     * changed or the reflection is paused.
+     */
+    public void endChanges() {
+        if (batchDepth == 0) throw new IllegalStateException("No batch of changes to end.");
+        if (--batchDepth > 0) return;
+
+        diff.collect(board);
+        if (listener != null && changeReflection && !diff.isEmpty()) listener.onBRChanges(diff);
+    }
+
     public Piece clonedPiece(String square) {
         return Piece.clone(piece(square));
     }
@@ -5,8 +5,6 @@ import tanzi.staff.BoardRegistry;
 import tanzi.pool.BufferedBRPool;
 import tanzi.pool.PiecePool;
 
-import java.util.Map;
-
 /**
  * This class particularly does nothing special but introduces a safety net to the system.
  * Algorithms that play with Board Registry (BR), and it is critical to make and revert changes
@@ -25,16 +23,20 @@ public class BufferedBR extends BoardRegistry {
 
     public void recycle() {
         // recycle the pieces
-        for (Map.Entry<String, Piece> entry : squarePiece.entrySet())
-            PiecePool.recycle(entry.getValue());
+        for (Piece piece : board)
+            if (piece != null) PiecePool.recycle(piece);
 
         // now pass the BufferedBR to the BufferedBRPool
         BufferedBRPool.recycle(this);
     }
 
-    public static void copySquarePieceMap(Map<String, Piece> source, Map<String, Piece> copy) {
-        for (Map.Entry<String, Piece> entry : source.entrySet())
-            copy.put(entry.getKey(), Piece.clone(entry.getValue()));
+    /**
+     * Copies the square-piece array of a BR into another one by cloning the pieces. Every square
+     * of the copy gets overwritten, so no piece of the copy survives from its previous use.
+     */
+    public static void copyBoard(Piece[] source, Piece[] copy) {
+        for (int i = 0; i < source.length; i++)
+            copy[i] = Piece.clone(source[i]);
     }
 
 }
@@ -1,6 +1,7 @@
 package tanzi.staff;
 
 import org.jetbrains.annotations.Nullable;
+import tanzi.algorithm.FEN;
 import tanzi.algorithm.MoveAnalyzer;
 import tanzi.algorithm.PGN;
 import tanzi.model.MoveMeta;
@@ -44,8 +45,23 @@ public class MoveRepo {
 
     private ArrayList<String> moves;
 
+    // the position the moves start from in FEN, null for the initial position
+    private String fen;
+
+    // the army playing the first move, which is black for a FEN with black to move
+    private int firstColor = Piece.COLOR_WHITE;
+
+    /*
+     * the analyzed meta of each move by its index, filled as the metas are asked for. so going back &
+     * forth through the moves doesn't analyze the same move again. a null entry or an index beyond
+     * the size is a move yet to be analyzed. the cached metas are never handed out, only their copies
+     * are, as the engine writes into the metas it gets.
+     * */
+    private final ArrayList<MoveMeta> metas;
+
     private MoveRepo() {
         moves = new ArrayList<>();
+        metas = new ArrayList<>();
     }
 
     /**
@@ -65,12 +81,22 @@ public class MoveRepo {
      * but the starting position can't be altered.
      */
     public static MoveRepo of(Type type, @Nullable String moves) {
+        return of(type, null, moves);
+    }
+
+    /**
+     * Same as above but the moves start from the position written in FEN instead of the initial
+     * position, null FEN being the initial position. As the position itself is worth viewing, the
+     * moves can be empty/null for read-only and guarded repository when the FEN is given.
+     */
+    public static MoveRepo of(Type type, @Nullable String fen, @Nullable String moves) {
         String[] splitMoves = PGN.splitMoves(moves);
 
-        if ((type == Type.REPO_GUARDED || type == Type.READ_ONLY) && splitMoves == null)
+        if ((type == Type.REPO_GUARDED || type == Type.READ_ONLY) && splitMoves == null && fen == null)
             throw new IllegalArgumentException("Can't create a repo of empty/null moves of " + type);
 
         MoveRepo repo = new MoveRepo();
+        repo.setFEN(fen);
 
         if (type == Type.REPO_GUARDED) repo.guarded(splitMoves);
         else if (type == Type.READ_ONLY) repo.readOnly(splitMoves);
@@ -100,11 +126,21 @@ public class MoveRepo {
      * It notifies the listener about such invalidation, if there is any listener already set.
      */
     public boolean reload(String moves, MoveRepo.Type type) {
+        return reload(null, moves, type);
+    }
+
+    /**
+     * Same as above but the moves start from the position written in FEN, null FEN being the
+     * initial position. The moves can be empty/null when the FEN is given.
+     */
+    public boolean reload(@Nullable String fen, @Nullable String moves, MoveRepo.Type type) {
         String[] splitMoves = PGN.splitMoves(moves);
-        if (splitMoves == null || splitMoves.length < 1) return false;
+        if ((splitMoves == null || splitMoves.length < 1) && fen == null) return false;
 
         // clear the current move list and reset the index to initial position
+        setFEN(fen);
         this.moves.clear();
+        metas.clear();
         index = -1;
 
         // also updates the safe index if it is a guarded repo
@@ -157,6 +193,9 @@ public class MoveRepo {
         if (moves.size() > 0) moves = new ArrayList<>(temp);
         moves.add(move);
 
+        // the metas of the discarded moves & the overridden one are no longer valid
+        if (metas.size() > atIndex) metas.subList(atIndex, metas.size()).clear();
+
         // adjust the index after the override
         index = moves.size() - 1;
 
@@ -213,12 +252,12 @@ public class MoveRepo {
 
     /**
      * This method can tell whose turn it is to play the move based on the position where the board
-     * is at by repository. we know the even moves are played by white and odd moves are played by
-     * black.
+     * is at by repository. we know the even moves are played by the army playing the first move,
+     * which is white unless the FEN says otherwise, and odd moves are played by the other army.
      */
     public int whoseTurn(int index) {
         boolean even = (index % 2 == 0);
-        return even ? Piece.COLOR_WHITE : Piece.COLOR_BLACK;
+        return even ? firstColor : Piece.getOppositeColor(firstColor);
     }
 
     /**
@@ -229,7 +268,20 @@ public class MoveRepo {
      * The overloaded method with an index can calculate who it is to make move for that current index.
      */
     public int whoseTurn() {
-        return index % 2 == 0 ? Piece.COLOR_BLACK : Piece.COLOR_WHITE;
+        return whoseTurn(index + 1);
+    }
+
+    /**
+     * Returns the FEN of the position the moves start from, null if they start from the initial
+     * position.
+     */
+    public String fen() {
+        return fen;
+    }
+
+    private void setFEN(@Nullable String fen) {
+        this.fen = fen;
+        firstColor = fen == null ? Piece.COLOR_WHITE : FEN.sideToMove(fen);
     }
 
     /**
@@ -254,14 +306,25 @@ public class MoveRepo {
     /**
      * This returns an analyzed MoveMeta of the move specified by the index. If the index is out of the
      * bound of the move list then null is returned.
+     * <p>
+     * Each move is analyzed only once, the first time its meta is asked for. A new copy of the
+     * analyzed meta is returned every time, so the caller is free to change it.
      */
     public MoveMeta metaAt(int index) {
         String move = moveAt(index);
         if (move == null) return null;
-        MoveMeta meta = MoveAnalyzer.analyze(move);
-        meta.color = whoseTurn(index);
-        meta.moveIndex = index;
-        return meta;
+
+        while (metas.size() <= index) metas.add(null);
+
+        MoveMeta meta = metas.get(index);
+        if (meta == null) {
+            meta = MoveAnalyzer.analyze(move);
+            meta.color = whoseTurn(index);
+            meta.moveIndex = index;
+            metas.set(index, meta);
+        }
+
+        return meta.copy();
     }
 
     /*
@@ -0,0 +1,293 @@
+package tanzi.staff;
+
+import tanzi.algorithm.MoveMaker;
+import tanzi.model.BRHistory;
+import tanzi.model.MoveMeta;
+import tanzi.model.PGNGame;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * PGNImporter replays the games of a PGN file on many threads to validate them. It is a pipeline of
+ * three stages connected by bounded queues:
+ * <ul>
+ *     <li>a reader stage which reads the games one after another by the {@link PGNReader}</li>
+ *     <li>worker stages, each with its own BR, MoveRepo & BRHistorian, replaying the games on the BR
+ *     move by move like {@link tanzi.algorithm.PGN#writeToBR(String, BoardRegistry)} does</li>
+ *     <li>a sink stage giving the result of each game to the consumer on the calling thread</li>
+ * </ul>
+ * A full queue blocks the stage before it, so a slow sink slows the workers & the reader down instead
+ * of the games piling up in memory. The games are independent of each other, so the replay speed grows
+ * with the number of workers until the reader or the sink can't keep up. The results come to the sink
+ * in the order the workers finish them, the index of the result tells the order in the file.
+ * <p>
+ * The statistics of each stage are returned by {@link #run(PGNReader, Consumer)} to show which stage
+ * is the bottleneck.
+ */
+
+public class PGNImporter {
+
+    /**
+     * The outcome of replaying a game. The game is valid if all of its moves can be played, otherwise
+     * the error tells which move can't be played.
+     */
+    public static class Result {
+
+        // zero-based index of the game in the file
+        public final long index;
+        public final PGNGame game;
+
+        // number of moves played before the error or all the moves for a valid game
+        public final int played;
+        public final String error;
+
+        Result(long index, PGNGame game, int played, String error) {
+            this.index = index;
+            this.game = game;
+            this.played = played;
+            this.error = error;
+        }
+
+        public boolean isValid() {
+            return error == null;
+        }
+
+    }
+
+    /**
+     * Throughput of a stage. The busy time is spent on the work of the stage, and the waiting time is
+     * spent blocked on the queues, either for an item or for room in the next queue.
+     */
+    public static class Stage {
+
+        public final String name;
+        public long games, moves;
+        public long busyNanos, waitNanos;
+
+        Stage(String name) {
+            this.name = name;
+        }
+
+        public double gamesPerSecond() {
+            return busyNanos == 0 ? 0 : games * 1e9 / busyNanos;
+        }
+
+        public double movesPerSecond() {
+            return busyNanos == 0 ? 0 : moves * 1e9 / busyNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-10s games %10d  moves %12d  busy %8d ms  wait %8d ms  %10.0f games/s  %12.0f moves/s",
+                    name, games, moves, busyNanos / 1_000_000, waitNanos / 1_000_000, gamesPerSecond(), movesPerSecond());
+        }
+
+    }
+
+    public static final int DEFAULT_QUEUE_SIZE = 1024;
+
+    // marks the end of the games in a queue, one for each worker
+    private static final Item END = new Item(-1, null);
+
+    private final int workers;
+    private final int queueSize;
+
+    public PGNImporter(int workers) {
+        this(workers, DEFAULT_QUEUE_SIZE);
+    }
+
+    public PGNImporter(int workers, int queueSize) {
+        if (workers < 1) throw new IllegalArgumentException("Invalid number of workers " + workers);
+        if (queueSize < 1) throw new IllegalArgumentException("Invalid queue size " + queueSize);
+
+        this.workers = workers;
+        this.queueSize = queueSize;
+    }
+
+    /**
+     * Replays all the games of the reader and gives the result of each game to the sink, which is
+     * called on the calling thread. It returns when all the games are done, with the statistics of
+     * the reader, each worker & the sink in that order.
+     * <p>
+     * An IOException of the reader is thrown after the games read before it are done. If the sink
+     * throws an exception, the rest of the results are dropped and the exception is thrown after the
+     * other stages stop.
+     */
+    public List<Stage> run(PGNReader reader, Consumer<Result> sink) throws IOException, InterruptedException {
+        BlockingQueue<Item> games = new ArrayBlockingQueue<>(queueSize);
+        BlockingQueue<Object> results = new ArrayBlockingQueue<>(queueSize);
+
+        List<Stage> stages = new ArrayList<>();
+        Stage readerStage = new Stage("reader");
+        stages.add(readerStage);
+
+        IOException[] readError = new IOException[1];
+        Thread readerThread = new Thread(() -> read(reader, games, readerStage, readError), "pgn-reader");
+
+        List<Thread> threads = new ArrayList<>();
+        threads.add(readerThread);
+        for (int i = 0; i < workers; i++) {
+            Stage stage = new Stage("worker-" + i);
+            stages.add(stage);
+            threads.add(new Thread(() -> replay(games, results, stage), "pgn-worker-" + i));
+        }
+
+        for (Thread thread : threads) {
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        Stage sinkStage = new Stage("sink");
+        stages.add(sinkStage);
+        RuntimeException sinkError = drain(results, sink, sinkStage);
+
+        for (Thread thread : threads) thread.join();
+
+        if (sinkError != null) throw sinkError;
+        if (readError[0] != null) throw readError[0];
+        return stages;
+    }
+
+    // the reader stage, which always ends the queue for the workers even on error
+    private void read(PGNReader reader, BlockingQueue<Item> games, Stage stage, IOException[] error) {
+        try {
+            long index = 0;
+            while (true) {
+                long start = System.nanoTime();
+                PGNGame game = reader.next();
+                long read = System.nanoTime();
+                stage.busyNanos += read - start;
+                if (game == null) break;
+
+                stage.games++;
+                stage.moves += game.moves.size();
+
+                games.put(new Item(index++, game));
+                stage.waitNanos += System.nanoTime() - read;
+            }
+        } catch (IOException e) {
+            error[0] = e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            for (int i = 0; i < workers; i++) putEnd(games);
+        }
+    }
+
+    // a worker stage replaying the games on its own BR until the end of the queue
+    private void replay(BlockingQueue<Item> games, BlockingQueue<Object> results, Stage stage) {
+        BoardRegistry br = new BoardRegistry();
+        MoveRepo repo = MoveRepo.growingRepo(null);
+        BRHistorian historian = new BRHistorian(repo, br);
+
+        try {
+            while (true) {
+                long start = System.nanoTime();
+                Item item = games.take();
+                long taken = System.nanoTime();
+                stage.waitNanos += taken - start;
+                if (item == END) break;
+
+                Result result = replay(item, br, repo, historian);
+                long done = System.nanoTime();
+                stage.busyNanos += done - taken;
+                stage.games++;
+                stage.moves += result.played;
+
+                results.put(result);
+                stage.waitNanos += System.nanoTime() - done;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            putEnd(results);
+        }
+    }
+
+    private static Result replay(Item item, BoardRegistry br, MoveRepo repo, BRHistorian historian) {
+        PGNGame game = item.game;
+        if (game.moves.isEmpty()) return new Result(item.index, game, 0, null);
+
+        // a game set up from a position has its FEN in the tag pairs
+        String fen = game.header("FEN");
+        try {
+            if (fen == null) br.__clearAndSetup();
+            else br.__clearAndSetup(fen);
+        } catch (IllegalArgumentException e) {
+            return new Result(item.index, game, 0, e.getMessage());
+        }
+        repo.reload(fen, game.movesAsPGN(), MoveRepo.Type.REPO_GROWING);
+
+        int played = 0;
+        try {
+            for (MoveMeta meta : repo.metaIterable()) {
+                BRHistory history = MoveMaker.move(meta, br);
+                if (history == null) return new Result(item.index, game, played, "Can't move for " + meta.move);
+
+                history.saveAndExecute(historian, br);
+                played++;
+            }
+        } catch (RuntimeException e) {
+            return new Result(item.index, game, played, "Can't move for " + repo.moveAt(played) + ": " + e);
+        }
+
+        return new Result(item.index, game, played, null);
+    }
+
+    // the sink stage, which keeps taking the results until every worker has ended
+    private RuntimeException drain(BlockingQueue<Object> results, Consumer<Result> sink, Stage stage) throws InterruptedException {
+        RuntimeException error = null;
+        int ended = 0;
+
+        while (ended < workers) {
+            long start = System.nanoTime();
+            Object item = results.take();
+            long taken = System.nanoTime();
+            stage.waitNanos += taken - start;
+
+            if (item == END) {
+                ended++;
+                continue;
+            }
+
+            Result result = (Result) item;
+            stage.games++;
+            stage.moves += result.played;
+            if (error != null) continue;
+
+            try {
+                sink.accept(result);
+            } catch (RuntimeException e) {
+                error = e;
+            }
+            stage.busyNanos += System.nanoTime() - taken;
+        }
+
+        return error;
+    }
+
+    private static void putEnd(BlockingQueue<? super Item> queue) {
+        try {
+            queue.put(END);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // a game read from the file along with its index
+    private static class Item {
+        final long index;
+        final PGNGame game;
+
+        Item(long index, PGNGame game) {
+            this.index = index;
+            this.game = game;
+        }
+    }
+
+}
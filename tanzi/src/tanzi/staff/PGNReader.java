@@ -0,0 +1,302 @@
+package tanzi.staff;
+
+import tanzi.model.PGNGame;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * PGNReader reads the games of a PGN file one after another, however large the file is. The file is
+ * read through a channel into a buffer of fixed size & tokenized byte by byte as the buffer fills up,
+ * so the file is never loaded into a string and the memory it takes is bounded by the buffer & the
+ * game being read.
+ * <p>
+ * For each game it gives a {@link PGNGame} with the tag pairs and the SAN moves of the main line,
+ * ready for a MoveRepo. The rest of the movetext is tokenized & dropped:
+ * <ul>
+ *     <li>comments in braces & the rest of the line after a semicolon</li>
+ *     <li>variations in parentheses, however deep they are nested</li>
+ *     <li>NAGs such as $1 and the annotations such as !? written after the moves</li>
+ *     <li>move numbers such as 12. or 12... and the lines starting with the % escape</li>
+ * </ul>
+ * A game ends with its result such as 1-0 or *, or where the tag pairs of the next game start.
+ * Castles written with zeros such as 0-0-0 are given as O-O-O.
+ * <p>
+ * The reader is not thread safe. Close it to close the channel.
+ */
+
+public class PGNReader implements Closeable {
+
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    // a symbol longer than this is not a move or a tag name, so it is dropped
+    private static final int MAX_SYMBOL = 64;
+
+    // the rest of a longer tag value is dropped
+    private static final int MAX_VALUE = 4096;
+
+    private static final int EOF = -1;
+    private static final int NONE = -2;
+
+    private static final String[] RESULTS = {"1-0", "0-1", "1/2-1/2", "*"};
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+
+    private final byte[] symbol = new byte[MAX_SYMBOL];
+    private final byte[] value = new byte[MAX_VALUE];
+
+    // a byte read ahead which is given out by the next read
+    private int pending = NONE;
+
+    // whether the next byte is the first of a line, where the % escape can only be
+    private boolean lineStart = true;
+
+    public PGNReader(ReadableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    public PGNReader(ReadableByteChannel channel, int bufferSize) {
+        if (channel == null) throw new IllegalArgumentException("The channel can't be null.");
+        if (bufferSize < 1) throw new IllegalArgumentException("Invalid buffer size " + bufferSize);
+
+        this.channel = channel;
+        buffer = ByteBuffer.allocate(bufferSize);
+        buffer.flip();
+    }
+
+    /**
+     * Opens the PGN file at the path for reading its games.
+     */
+    public static PGNReader open(Path path) throws IOException {
+        return new PGNReader(FileChannel.open(path, StandardOpenOption.READ));
+    }
+
+    /**
+     * Reads the next game of the file. It returns null when there is no game left.
+     */
+    public PGNGame next() throws IOException {
+        PGNGame game = null;
+        boolean movetext = false;
+
+        int c;
+        while ((c = read()) != EOF) {
+            if (c <= ' ') {
+                lineStart = c == '\n';
+                continue;
+            }
+
+            boolean escape = lineStart && c == '%';
+            lineStart = false;
+
+            if (escape || c == ';') {
+                skipLine();
+                continue;
+            }
+
+            switch (c) {
+                case '[' -> {
+                    // the tag pairs of the next game start while this game has no result
+                    if (movetext) {
+                        pending = c;
+                        return game;
+                    }
+
+                    if (game == null) game = new PGNGame();
+                    readTag(game);
+                }
+
+                case '{' -> skipUntil('}');
+                case '(' -> skipVariation();
+                case '$' -> readSymbol();
+                case ')', ']', '}', '"' -> {
+                    // nothing opened them, so they are ignored
+                }
+
+                default -> {
+                    pending = c;
+                    int length = readSymbol();
+
+                    String result = result(length);
+                    if (result != null) {
+                        if (game == null) game = new PGNGame();
+                        game.result = result;
+                        return game;
+                    }
+
+                    String move = move(length);
+                    if (move == null) continue;
+
+                    if (game == null) game = new PGNGame();
+                    game.moves.add(move);
+                    movetext = true;
+                }
+            }
+        }
+
+        return game;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int read() throws IOException {
+        if (pending != NONE) {
+            int c = pending;
+            pending = NONE;
+            return c;
+        }
+
+        if (!buffer.hasRemaining()) {
+            buffer.clear();
+            int count;
+            do {
+                count = channel.read(buffer);
+            } while (count == 0);
+            buffer.flip();
+
+            if (count < 0) return EOF;
+        }
+
+        return buffer.get() & 0xFF;
+    }
+
+    /*
+     * reads a symbol into the symbol buffer & returns its length. it ends at a whitespace or at a
+     * byte which starts another token, that byte is left for the next read. -1 is returned for a
+     * symbol too long to be kept.
+     * */
+    private int readSymbol() throws IOException {
+        int length = 0;
+
+        int c;
+        while ((c = read()) != EOF) {
+            if (c <= ' ' || c == '{' || c == '}' || c == '(' || c == ')' || c == '[' || c == ']'
+                    || c == ';' || c == '$' || c == '"') {
+                pending = c;
+                break;
+            }
+
+            if (length < MAX_SYMBOL) symbol[length] = (byte) c;
+            length++;
+        }
+
+        return length > MAX_SYMBOL ? -1 : length;
+    }
+
+    // reads a tag pair such as [White "Kasparov, Garry"] after its opening bracket
+    private void readTag(PGNGame game) throws IOException {
+        skipSpaces();
+        int length = readSymbol();
+        if (length <= 0) {
+            skipUntil(']');
+            return;
+        }
+        String name = new String(symbol, 0, length, StandardCharsets.US_ASCII);
+
+        skipSpaces();
+        int c = read();
+        if (c != '"') {
+            pending = c;
+            skipUntil(']');
+            return;
+        }
+
+        // the value is a string where a backslash escapes a quote or a backslash
+        length = 0;
+        while ((c = read()) != EOF && c != '"') {
+            if (c == '\\') c = read();
+            if (c == EOF) break;
+            if (length < MAX_VALUE) value[length++] = (byte) c;
+        }
+
+        game.headers.put(name, new String(value, 0, length, StandardCharsets.UTF_8));
+        skipUntil(']');
+    }
+
+    // skips a variation after its opening parenthesis along with all the variations in it
+    private void skipVariation() throws IOException {
+        int depth = 1;
+
+        int c;
+        while ((c = read()) != EOF) {
+            if (c == '(') depth++;
+            else if (c == ')' && --depth == 0) return;
+            else if (c == '{') skipUntil('}');
+            else if (c == ';') skipLine();
+        }
+    }
+
+    private void skipUntil(int end) throws IOException {
+        int c;
+        do {
+            c = read();
+        } while (c != end && c != EOF);
+    }
+
+    private void skipLine() throws IOException {
+        skipUntil('\n');
+        lineStart = true;
+    }
+
+    private void skipSpaces() throws IOException {
+        int c;
+        do {
+            c = read();
+        } while (c == ' ' || c == '\t');
+        pending = c;
+    }
+
+    // the game termination marker in the symbol buffer, null if it is not one
+    private String result(int length) {
+        for (String result : RESULTS) {
+            if (result.length() != length) continue;
+
+            int i = 0;
+            while (i < length && symbol[i] == result.charAt(i)) i++;
+            if (i == length) return result;
+        }
+        return null;
+    }
+
+    /*
+     * the move in the symbol buffer without its move number & annotations. null is returned if it
+     * is not a move such as a move number on its own.
+     * */
+    private String move(int length) {
+        int start = 0, end = length;
+
+        // a move number such as 12. or 12... which can be written right before the move
+        while (start < end && symbol[start] >= '0' && symbol[start] <= '9') start++;
+        if (start < end && symbol[start] == '.') {
+            while (start < end && symbol[start] == '.') start++;
+        } else {
+            start = 0;
+        }
+
+        // suffix annotations such as !, ?, !? or ??
+        while (end > start && (symbol[end - 1] == '!' || symbol[end - 1] == '?')) end--;
+        if (end <= start) return null;
+
+        // castles written with zeros
+        if (symbol[start] == '0' && end - start >= 3 && symbol[start + 1] == '-') {
+            for (int i = start; i < end; i++)
+                if (symbol[i] == '0') symbol[i] = 'O';
+        }
+
+        // a move always starts with a piece letter or a file, anything else isn't a move
+        int first = symbol[start];
+        if ((first < 'a' || first > 'z') && (first < 'A' || first > 'Z')) return null;
+
+        return new String(symbol, start, end - start, StandardCharsets.US_ASCII);
+    }
+
+}
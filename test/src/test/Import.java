@@ -0,0 +1,51 @@
+package test;
+
+import tanzi.staff.PGNImporter;
+import tanzi.staff.PGNReader;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Import replays all the games of a PGN file by the {@link PGNImporter} and prints the throughput of
+ * each stage of the pipeline, along with the first few games which can't be replayed. Running it with
+ * different numbers of workers shows how the replay speed scales with the cores.
+ * <p>
+ * Run it as: {@code Import <pgn file> [workers] [queue size]}
+ */
+
+public class Import {
+
+    private static final int MAX_ERRORS = 10;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.out.println("usage: Import <pgn file> [workers] [queue size]");
+            return;
+        }
+
+        int workers = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int queueSize = args.length > 2 ? Integer.parseInt(args[2]) : PGNImporter.DEFAULT_QUEUE_SIZE;
+
+        long[] invalid = new long[1];
+        long start = System.nanoTime();
+
+        List<PGNImporter.Stage> stages;
+        try (PGNReader reader = PGNReader.open(Path.of(args[0]))) {
+            stages = new PGNImporter(workers, queueSize).run(reader, result -> {
+                if (result.isValid()) return;
+                if (invalid[0]++ < MAX_ERRORS)
+                    System.out.printf("game %d at move %d: %s%n", result.index + 1, result.played + 1, result.error);
+            });
+        }
+
+        long ms = Math.max((System.nanoTime() - start) / 1_000_000, 1);
+        PGNImporter.Stage sink = stages.get(stages.size() - 1);
+
+        System.out.println();
+        for (PGNImporter.Stage stage : stages) System.out.println(stage);
+        System.out.printf("%nworkers %d games %d invalid %d moves %d time %d ms, %d games/s %d moves/s%n",
+                workers, sink.games, invalid[0], sink.moves, ms, sink.games * 1000 / ms, sink.moves * 1000 / ms);
+    }
+
+}
@@ -0,0 +1,171 @@
+package test;
+
+import lib.helper.BenchMarker;
+import tanzi.algorithm.FEN;
+import tanzi.algorithm.MoveGenerator;
+import tanzi.model.Move;
+import tanzi.staff.BoardRegistry;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Perft walks the tree of all legal moves from a position down to a depth and counts the leaf
+ * nodes. The counts of the well-known reference positions below are known for each depth, so any
+ * difference points to a bug in the move generation or in making & unmaking the moves. The time it
+ * takes gives the throughput of the engine in nodes per second.
+ * <p>
+ * Divide mode gives the count for each root move separately, which can be compared with another
+ * engine to find the exact move the bug is in.
+ * <p>
+ * Run it as: {@code Perft <position name | FEN> <depth> [divide]}
+ */
+
+public class Perft {
+
+    public static class Position {
+        public final String name;
+        public final String fen;
+
+        // the known node counts starting from depth 1
+        public final long[] nodes;
+
+        Position(String name, String fen, long... nodes) {
+            this.name = name;
+            this.fen = fen;
+            this.nodes = nodes;
+        }
+    }
+
+    public static final Position[] POSITIONS = {
+            new Position("start", "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+                    20, 400, 8902, 197281, 4865609),
+
+            // lots of castles, pins & captures in the middle game
+            new Position("kiwipete", "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+                    48, 2039, 97862, 4085603),
+
+            // en-passant captures which expose the king along the rank
+            new Position("en-passant", "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+                    14, 191, 2812, 43238, 674624),
+
+            // promotions with & without capture, castle rights for black only
+            new Position("promotion", "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+                    6, 264, 9467, 422333),
+
+            // promotion by capture next to the king & castle through an attacked square
+            new Position("castle", "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+                    44, 1486, 62379, 2103487),
+
+            new Position("middle-game", "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10",
+                    46, 2079, 89890, 3894594)
+    };
+
+    private final BoardRegistry br;
+
+    // one move array for each ply so that the walk doesn't create any array
+    private final int[][] moves;
+
+    public Perft(BoardRegistry br, int maxDepth) {
+        this.br = br;
+        moves = new int[Math.max(maxDepth, 1)][MoveGenerator.MAX_MOVES];
+    }
+
+    /**
+     * Counts the leaf nodes of the tree from the position in the BR down to the depth. The BR is
+     * exactly the same after the count.
+     */
+    public long perft(int depth) {
+        return perft(depth, 0);
+    }
+
+    private long perft(int depth, int ply) {
+        if (depth == 0) return 1;
+
+        int[] list = moves[ply];
+        int count = MoveGenerator.generate(list, br);
+
+        // the moves of the last ply are the leaf nodes, no need to make them
+        if (depth == 1) return count;
+
+        long nodes = 0;
+        for (int i = 0; i < count; i++) {
+            int move = list[i];
+            int mark = br.makeMove(Move.from(move), Move.to(move), Move.promotionType(move));
+            nodes += perft(depth - 1, ply + 1);
+            br.unmakeMove(mark);
+        }
+        return nodes;
+    }
+
+    /**
+     * Same as perft but the count is given for each root move by its name such as "e2e4".
+     */
+    public Map<String, Long> divide(int depth) {
+        Map<String, Long> divide = new TreeMap<>();
+        if (depth < 1) return divide;
+
+        int[] list = new int[MoveGenerator.MAX_MOVES];
+        int count = MoveGenerator.generate(list, br);
+
+        for (int i = 0; i < count; i++) {
+            int move = list[i];
+            int mark = br.makeMove(Move.from(move), Move.to(move), Move.promotionType(move));
+            divide.put(Move.name(move), perft(depth - 1, 1));
+            br.unmakeMove(mark);
+        }
+        return divide;
+    }
+
+    public static Position position(String name) {
+        for (Position position : POSITIONS)
+            if (position.name.equals(name)) return position;
+        return null;
+    }
+
+    /**
+     * Sets up a BR for the position written in FEN.
+     */
+    public static BoardRegistry setup(String fen) {
+        BoardRegistry br = new BoardRegistry();
+        FEN.read(fen, br);
+        return br;
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.out.println("usage: Perft <position name | FEN> <depth> [divide]");
+            return;
+        }
+
+        Position position = position(args[0]);
+        String fen = position == null ? args[0] : position.fen;
+        int depth = Integer.parseInt(args[1]);
+
+        BoardRegistry br = setup(fen);
+        Perft perft = new Perft(br, depth);
+
+        if (args.length > 2 && args[2].equals("divide")) {
+            long total = 0;
+            for (Map.Entry<String, Long> entry : perft.divide(depth).entrySet()) {
+                System.out.println(entry.getKey() + ": " + entry.getValue());
+                total += entry.getValue();
+            }
+            System.out.println("\nnodes: " + total);
+            return;
+        }
+
+        for (int d = 1; d <= depth; d++) {
+            long start = BenchMarker.now();
+            long nodes = perft.perft(d);
+            long ms = Math.max(BenchMarker.diff(start), 1);
+
+            String expected = "";
+            if (position != null && d <= position.nodes.length)
+                expected = nodes == position.nodes[d - 1] ? " ok" : " expected " + position.nodes[d - 1];
+
+            System.out.printf("depth %d nodes %d time %d ms nps %d%s%n", d, nodes, ms, nodes * 1000 / ms, expected);
+        }
+    }
+
+}
@@ -1,21 +1,36 @@
 package test;
 
+import database.Environment;
+import database.PuzzleCursor;
 import database.PuzzleDB;
+import database.PuzzlePack;
 
-import java.sql.ResultSet;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.stream.Stream;
 
 public class Puzzle {
     private int setIndex = 1;
     int index = -1;
     private ArrayList<String> buffer;
 
+    // opened once from the environment, null if there is no pack
+    private static PuzzlePack pack;
+    private static volatile boolean packChecked;
+
+    // reads the puzzles from the database page by page if there is no pack
+    private PuzzleCursor cursor;
+
     public Puzzle() {
         buffer = new ArrayList<>();
     }
 
     public String next() {
+        if (pack() == null) return nextFromCursor();
+
         index++;
         if (index == 1000) {
             setIndex++;
@@ -33,19 +48,31 @@ public class Puzzle {
         return buffer.get(index);
     }
 
+    private String nextFromCursor() {
+        if (cursor == null) cursor = PuzzleDB.getInstance().cursor(0, PuzzleCursor.DEFAULT_FETCH_SIZE, true);
+
+        index++;
+        if (index < Env.TOTAL_SET * 1000 && cursor.hasNext()) return cursor.next().pgn();
+
+        cursor.close();
+        return null;
+    }
+
     public static ArrayList<String> set(int setNumber) {
         int startFrom = (setNumber - 1) * 1000;
 
         /* get all the puzzle */
         ArrayList<String> pgnList = new ArrayList<>();
-        try {
-            PuzzleDB puzzleDB = PuzzleDB.getInstance();
-            ResultSet resultSet = puzzleDB.executeAndReturn("SELECT * FROM pgn LIMIT 1000 OFFSET " + startFrom);
-            while (resultSet.next()) {
-                String pgn = resultSet.getString("problem") + "," + resultSet.getString("solution");
-                pgnList.add(pgn);
-            }
-            resultSet.close();
+
+        // the pack is much faster to read than the database, if the environment has one
+        PuzzlePack pack = pack();
+        if (pack != null) {
+            for (int i = startFrom; i < Math.min(startFrom + 1000, pack.size()); i++) pgnList.add(pack.pgn(i));
+            return pgnList;
+        }
+
+        try (Stream<database.Puzzle> puzzles = PuzzleDB.getInstance().stream(setNumber, setNumber)) {
+            puzzles.forEach(puzzle -> pgnList.add(puzzle.pgn()));
         } catch (SQLException e) {
             e.printStackTrace();
         }
@@ -53,19 +80,45 @@ public class Puzzle {
     }
 
     private static String puzzle(int id) {
+        PuzzlePack pack = pack();
+        if (pack != null) {
+            int index = pack.indexOfId(id);
+            return index == -1 ? null : pack.pgn(index);
+        }
 
         try {
-            PuzzleDB puzzleDB = PuzzleDB.getInstance();
-            ResultSet resultSet = puzzleDB.executeAndReturn("SELECT * FROM pgn WHERE id = " + id);
-            if (!resultSet.next()) return null;
-
-            String pgn = resultSet.getString("problem") + "," + resultSet.getString("solution");
-            resultSet.close();
-            return pgn;
+            database.Puzzle puzzle = PuzzleDB.getInstance().byId(id);
+            return puzzle == null ? null : puzzle.pgn();
         } catch (SQLException e) {
             e.printStackTrace();
             return null;
         }
     }
 
+    // the environment is only looked up for the pack once, so a missing pack costs nothing per puzzle
+    private static PuzzlePack pack() {
+        if (packChecked) return pack;
+
+        synchronized (Puzzle.class) {
+            if (packChecked) return pack;
+
+            Path path = Path.of(Environment.PACK_PATH);
+            if (Files.exists(path)) {
+                try {
+                    pack = PuzzlePack.open(path);
+
+                    // an empty pack has no puzzle to serve, the database is read instead
+                    if (pack.size() == 0) {
+                        pack.close();
+                        pack = null;
+                    }
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+            packChecked = true;
+        }
+        return pack;
+    }
+
 }
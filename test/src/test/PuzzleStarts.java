@@ -0,0 +1,156 @@
+package test;
+
+import database.Puzzle;
+import database.PuzzleCursor;
+import database.PuzzleDB;
+import database.PuzzleStart;
+import tanzi.algorithm.Arbiter;
+import tanzi.algorithm.FEN;
+import tanzi.algorithm.MoveMaker;
+import tanzi.algorithm.PGN;
+import tanzi.model.BRHistory;
+import tanzi.model.MoveMeta;
+import tanzi.model.Square;
+import tanzi.staff.BoardRegistry;
+import tanzi.staff.MoveRepo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PuzzleStarts replays every puzzle of the database once and stores the position it starts from, as
+ * a {@link PuzzleStart}, next to the puzzle. The puzzles are read page by page & each page is split
+ * among the workers, each replaying its share on its own BR, while the cursor reads the next page.
+ * <p>
+ * Run it as: {@code PuzzleStarts [workers]}
+ */
+
+public class PuzzleStarts {
+
+    private static final int MAX_ERRORS = 10;
+
+    public static void main(String[] args) throws Exception {
+        int workers = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        ThreadLocal<Replayer> replayers = ThreadLocal.withInitial(Replayer::new);
+
+        PuzzleDB puzzleDB = PuzzleDB.getInstance();
+        AtomicLong invalid = new AtomicLong();
+        long puzzles = 0;
+        long start = System.nanoTime();
+
+        try (PuzzleCursor cursor = puzzleDB.cursor(0, PuzzleCursor.DEFAULT_FETCH_SIZE, true)) {
+            List<Puzzle> page = new ArrayList<>(PuzzleCursor.DEFAULT_FETCH_SIZE);
+            while (cursor.hasNext()) {
+                page.add(cursor.next());
+                if (page.size() < PuzzleCursor.DEFAULT_FETCH_SIZE && cursor.hasNext()) continue;
+
+                // each worker replays a slice of the page
+                List<Future<List<PuzzleStart>>> slices = new ArrayList<>(workers);
+                int sliceSize = (page.size() + workers - 1) / workers;
+                for (int from = 0; from < page.size(); from += sliceSize) {
+                    List<Puzzle> slice = page.subList(from, Math.min(from + sliceSize, page.size()));
+                    slices.add(executor.submit(() -> {
+                        Replayer replayer = replayers.get();
+                        List<PuzzleStart> starts = new ArrayList<>(slice.size());
+                        for (Puzzle puzzle : slice) {
+                            PuzzleStart puzzleStart = replayer.replay(puzzle);
+                            if (puzzleStart != null) starts.add(puzzleStart);
+                            else if (invalid.incrementAndGet() <= MAX_ERRORS) System.out.println("can't replay " + puzzle);
+                        }
+                        return starts;
+                    }));
+                }
+
+                List<PuzzleStart> starts = new ArrayList<>(page.size());
+                for (Future<List<PuzzleStart>> slice : slices) starts.addAll(slice.get());
+                puzzleDB.saveStarts(starts);
+
+                puzzles += page.size();
+                page.clear();
+            }
+        } finally {
+            executor.shutdown();
+            puzzleDB.closeConnection();
+        }
+
+        long ms = Math.max((System.nanoTime() - start) / 1_000_000, 1);
+        System.out.printf("workers %d puzzles %d invalid %d time %d ms, %d puzzles/s%n",
+                workers, puzzles, invalid.get(), ms, puzzles * 1000 / ms);
+    }
+
+    /**
+     * Replays puzzles on its own BR, one at a time. A replayer must only be used by one thread.
+     */
+    public static class Replayer {
+
+        private final BoardRegistry br = new BoardRegistry();
+        private final MoveRepo repo = MoveRepo.growingRepo(null);
+
+        /**
+         * The start of the puzzle, null if any move of it can't be played.
+         */
+        public PuzzleStart replay(Puzzle puzzle) {
+            return replay(puzzle.id, puzzle.problem, puzzle.solution);
+        }
+
+        public PuzzleStart replay(long id, String problem, String solution) {
+            // the plies are counted by the same splitter the repo uses, so the start is where the repo has it
+            int problemPlies = PGN.splitMoves(problem).length;
+
+            br.__clearAndSetup();
+            if (!repo.reload(null, problem + "," + solution, MoveRepo.Type.REPO_GROWING)) return null;
+            if (repo.moveCount() <= problemPlies) return null;
+
+            String fen = null;
+            long hash = 0;
+            int sideToMove = 0;
+            short[] moves = new short[repo.moveCount() - problemPlies];
+
+            try {
+                int ply = 0;
+                for (MoveMeta meta : repo.metaIterable()) {
+                    if (ply == problemPlies) {
+                        fen = FEN.write(br);
+                        hash = br.hash();
+                        sideToMove = br.sideToMove();
+                    }
+
+                    BRHistory history = MoveMaker.move(meta, br);
+                    if (history == null) return null;
+                    if (ply >= problemPlies) moves[ply - problemPlies] = pack(meta);
+
+                    // the replay is never navigated, so the history isn't saved
+                    history.redo(br);
+                    ply++;
+                }
+            } catch (RuntimeException e) {
+                return null;
+            }
+
+            return fen == null ? null : new PuzzleStart(id, fen, hash, sideToMove, moves);
+        }
+
+        // the squares of the move, which MoveMaker has checked to be playable but not played yet
+        private short pack(MoveMeta meta) {
+            String from, to = meta.destSquare;
+            if (meta.castle) {
+                from = br.getKingSquare(meta.color);
+                to = (meta.shortCastle ? "g" : "c") + from.charAt(1);
+            } else if (meta.enPassant) {
+                from = meta.enPasserTaker;
+            } else {
+                from = Arbiter.getPiece(meta, br).currentSquare();
+            }
+
+            return PuzzleStart.move(Square.of(from), Square.of(to), meta.promotion ? meta.promoteType : -1);
+        }
+
+    }
+
+}
@@ -0,0 +1,135 @@
+package test.testsuite;
+
+import org.junit.Assert;
+import org.junit.Test;
+import tanzi.app.Game;
+import tanzi.model.BRDiff;
+import tanzi.model.Piece;
+import tanzi.model.Square;
+import tanzi.protocol.BRChangeListener;
+import tanzi.staff.BoardRegistry;
+
+import java.util.Random;
+
+public class BRChangesTest {
+
+    private static final String MOVES = "e4, Nf6, e5, d5, exd6, Nc6, Nf3, e5, Bb5, Bd7, O-O, Qe7, Re1, O-O-O, dxc7, h6, Nc3, Ne4, cxd8=Q+, Kxd8, Nxe4, Qb4";
+
+    /*
+     * a board kept by the changes the listener is told about, which must always look the same as
+     * the BR. it counts the calls, so that a navigation can be checked to be told at once.
+     * */
+    private static class Mirror implements BRChangeListener {
+
+        final String[] board = new String[64];
+        final boolean batches;
+        int diffs, pieces;
+
+        Mirror(BoardRegistry br, boolean batches) {
+            this.batches = batches;
+            for (int i = 0; i < 64; i++) board[i] = name(br.piece(i));
+        }
+
+        @Override
+        public void onBRChanges(BRDiff diff) {
+            diffs++;
+            if (!batches) {
+                BRChangeListener.super.onBRChanges(diff);
+                return;
+            }
+
+            for (int i = 0; i < diff.size(); i++) {
+                Assert.assertEquals(name(diff.before(i)), board[diff.square(i)]);
+                board[diff.square(i)] = name(diff.after(i));
+            }
+        }
+
+        @Override
+        public void onPieceDeletedFromBR(String square, Piece piece) {
+            pieces++;
+            Assert.assertEquals(name(piece), board[Square.of(square)]);
+            board[Square.of(square)] = null;
+        }
+
+        @Override
+        public void onPieceAddedToBR(String square, Piece piece) {
+            pieces++;
+            Assert.assertNull(board[Square.of(square)]);
+            board[Square.of(square)] = name(piece);
+        }
+
+        @Override
+        public void onInvalidation() {
+            Assert.fail("The BR must tell the changes instead of invalidating.");
+        }
+
+        @Override
+        public void onBRClear() {
+
+        }
+
+        void assertSame(BoardRegistry br) {
+            for (int i = 0; i < 64; i++) Assert.assertEquals(Square.name(i), name(br.piece(i)), board[i]);
+        }
+
+        private static String name(Piece piece) {
+            return piece == null ? null : piece.color + "" + piece.type;
+        }
+
+    }
+
+    @Test
+    public void navigation() {
+        for (boolean batches : new boolean[]{true, false}) {
+            Game game = Game.ofMoves(MOVES).create();
+            BoardRegistry br = game.br();
+            Mirror mirror = new Mirror(br, batches);
+            game.setBRChangeListener(mirror);
+
+            // the whole game at once is told in a single diff of only the changed squares
+            int last = game.repo().moveCount() - 1;
+            Assert.assertTrue(game.gotoMove(last));
+            Assert.assertEquals(1, mirror.diffs);
+            mirror.assertSame(br);
+
+            Random random = new Random(3);
+            for (int i = 0; i < 100; i++) {
+                int diffs = mirror.diffs;
+                Assert.assertTrue(game.gotoMove(random.nextInt(last + 1)));
+                Assert.assertTrue(mirror.diffs - diffs <= 1);
+                mirror.assertSame(br);
+            }
+
+            if (batches) Assert.assertEquals(0, mirror.pieces);
+        }
+    }
+
+    @Test
+    public void netChange() {
+        BoardRegistry br = new BoardRegistry();
+        Mirror mirror = new Mirror(br, true);
+        br.setChangeListener(mirror);
+
+        // a piece moved away & back is no change
+        br.beginChanges();
+        br.movePiece("g1", "f3");
+        br.movePiece("f3", "g1");
+        br.endChanges();
+        Assert.assertEquals(0, mirror.diffs);
+
+        // the nested batch is told with the outer one
+        br.beginChanges();
+        br.movePiece("e2", "e4");
+        br.beginChanges();
+        br.delete("d7");
+        br.endChanges();
+        Assert.assertEquals(0, mirror.diffs);
+        br.endChanges();
+
+        Assert.assertEquals(1, mirror.diffs);
+        mirror.assertSame(br);
+
+        Assert.assertThrows(IllegalStateException.class, br::endChanges);
+    }
+
+}
@@ -3,10 +3,13 @@ package test.testsuite;
 import lib.helper.BenchMarker;
 import org.junit.Assert;
 import org.junit.Test;
+import tanzi.algorithm.FEN;
 import tanzi.algorithm.MoveMaker;
+import tanzi.app.Game;
 import tanzi.model.BRHistory;
 import tanzi.staff.BoardRegistry;
 import tanzi.model.MoveMeta;
+import tanzi.model.Zobrist;
 import tanzi.staff.*;
 import test.Env;
 import test.Puzzle;
@@ -206,4 +209,145 @@ public class BRHistorianTest {
         Assert.assertEquals(3, his.numOfChanges());
     }
 
+    /*
+     * the packed histories must give back exactly the same positions, including the castle rights,
+     * the en-passers & the move counters, however the moves are walked through.
+     * */
+    @Test
+    public void packedHistory() throws Exception {
+        // en-passant, castles, captures & a promotion by capture
+        String moves = "e4, Nf6, e5, d5, exd6, Nc6, Nf3, e5, Bb5, Bd7, O-O, Qe7, Re1, O-O-O, dxc7, h6, Nc3, Ne4, cxd8=Q+, Kxd8, Nxe4, Qb4";
+
+        BoardRegistry br = new BoardRegistry();
+        MoveRepo repo = MoveRepo.of(MoveRepo.Type.REPO_GROWING, moves);
+        BRHistorian his = new BRHistorian(repo, br);
+
+        List<String> fens = new ArrayList<>();
+        fens.add(FEN.write(br));
+        for (int i = 0; i < repo.moveCount(); i++) {
+            Assert.assertTrue(his.goTo(i));
+            fens.add(FEN.write(br));
+        }
+        Assert.assertEquals(repo.moveCount(), his.numOfChanges());
+
+        Random random = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            int index = random.nextInt(repo.moveCount() + 1) - 1;
+            Assert.assertTrue(his.goTo(index));
+            Assert.assertEquals(fens.get(index + 1), FEN.write(br));
+        }
+
+        // the unpacked history is a copy which can be redone on another BR
+        BoardRegistry other = new BoardRegistry();
+        for (int i = 0; i < repo.moveCount(); i++) his.historyFor(i).redo(other);
+        Assert.assertEquals(fens.get(fens.size() - 1), FEN.write(other));
+        Assert.assertNull(his.historyFor(repo.moveCount()));
+    }
+
+    @Test
+    public void checkpoints() throws Exception {
+        String moves = "e4, Nf6, e5, d5, exd6, Nc6, Nf3, e5, Bb5, Bd7, O-O, Qe7, Re1, O-O-O, dxc7, h6, Nc3, Ne4, cxd8=Q+, Kxd8, Nxe4, Qb4";
+
+        // the positions walked to by the changes alone
+        List<String> fens = positions(moves);
+        int moveCount = fens.size() - 1;
+
+        BoardRegistry br = new BoardRegistry();
+        MoveRepo repo = MoveRepo.of(MoveRepo.Type.REPO_GROWING, moves);
+        BRHistorian his = new BRHistorian(repo, br);
+        his.setCheckpointInterval(3);
+
+        // scrub to the end & back, then jump around restoring from the checkpoints
+        Assert.assertTrue(his.goTo(moveCount - 1));
+        Assert.assertTrue(his.goTo(-1));
+        Assert.assertTrue(his.goTo(moveCount - 1));
+
+        Random random = new Random(11);
+        for (int i = 0; i < 300; i++) {
+            int index = random.nextInt(moveCount + 1) - 1;
+            Assert.assertTrue(his.goTo(index));
+            Assert.assertEquals(fens.get(index + 1), FEN.write(br));
+            Assert.assertEquals(Zobrist.hash(br), br.hash());
+        }
+
+        // the checkpoints after an overridden move are dropped with its changes
+        Assert.assertTrue(his.goTo(9));
+        Assert.assertTrue(repo.override("Nxe5", 10));
+        MoveMaker.move(repo.metaAt(10), br).saveAndExecute(his, br);
+
+        List<String> overridden = positions("e4, Nf6, e5, d5, exd6, Nc6, Nf3, e5, Bb5, Bd7, Nxe5");
+        for (int index : new int[]{-1, 10, 5, 10, 9}) {
+            Assert.assertTrue(his.goTo(index));
+            Assert.assertEquals(overridden.get(index + 1), FEN.write(br));
+        }
+    }
+
+    @Test
+    public void drawDetection() throws Exception {
+        BoardRegistry br = new BoardRegistry();
+        MoveRepo repo = MoveRepo.of(MoveRepo.Type.REPO_GROWING, "Nf3, Nf6, Ng1, Ng8, Nf3, Nf6, Ng1, Ng8");
+        BRHistorian his = new BRHistorian(repo, br);
+
+        int[] repetitions = {1, 1, 1, 2, 2, 2, 2, 3};
+        for (int i = 0; i < repetitions.length; i++) {
+            Assert.assertTrue(his.goTo(i));
+            Assert.assertEquals(repetitions[i], his.repetitions());
+        }
+        Assert.assertTrue(his.isThreefoldRepetition());
+
+        // the same by undoing & redoing the changes
+        for (int i : new int[]{3, -1, 7, 5, 0, 7}) {
+            Assert.assertTrue(his.goTo(i));
+            Assert.assertEquals(i == -1 ? 1 : repetitions[i], his.repetitions());
+        }
+
+        // the knight going elsewhere is a new position
+        Assert.assertTrue(his.goTo(6));
+        Assert.assertTrue(repo.override("Nh5", 7));
+        MoveMaker.move(repo.metaAt(7), br).saveAndExecute(his, br);
+        Assert.assertEquals(1, his.repetitions());
+        Assert.assertFalse(his.isThreefoldRepetition());
+
+        // a repetition before a pawn move doesn't count after it
+        br = new BoardRegistry();
+        repo = MoveRepo.of(MoveRepo.Type.REPO_GROWING, "Nf3, Nf6, Ng1, Ng8, e4, e5, Nf3, Nf6, Ng1, Ng8");
+        his = new BRHistorian(repo, br);
+        Assert.assertTrue(his.goTo(9));
+        Assert.assertEquals(2, his.repetitions());
+
+        // the fifty-move rule by the half-move clock of the FEN
+        String fen = "4k3/8/8/8/8/8/8/4K1N1 w - - 98 80";
+        br = new BoardRegistry();
+        br.__clearAndSetup(fen);
+        repo = MoveRepo.of(MoveRepo.Type.REPO_GROWING, fen, "Nf3, Kd7");
+        his = new BRHistorian(repo, br);
+        Assert.assertTrue(his.goTo(0));
+        Assert.assertFalse(his.isFiftyMoveRule());
+        Assert.assertTrue(his.goTo(1));
+        Assert.assertTrue(his.isFiftyMoveRule());
+
+        // the game tells the draw as its state
+        Game game = Game.ofMoves("Nf3, Nf6, Ng1, Ng8, Nf3, Nf6, Ng1, Ng8, e4").create();
+        Assert.assertTrue(game.gotoMove(7));
+        Assert.assertEquals(Game.State.THREEFOLD_REPETITION, game.state());
+        Assert.assertTrue(game.gotoMove(8));
+        Assert.assertEquals(Game.State.PGN_END, game.state());
+    }
+
+    // the FEN before the moves & after each of them, walked to without any checkpoint
+    private static List<String> positions(String moves) {
+        BoardRegistry br = new BoardRegistry();
+        MoveRepo repo = MoveRepo.of(MoveRepo.Type.REPO_GROWING, moves);
+        BRHistorian his = new BRHistorian(repo, br);
+        his.setCheckpointInterval(0);
+
+        List<String> fens = new ArrayList<>();
+        fens.add(FEN.write(br));
+        for (int i = 0; i < repo.moveCount(); i++) {
+            Assert.assertTrue(his.goTo(i));
+            fens.add(FEN.write(br));
+        }
+        return fens;
+    }
+
 }
@@ -0,0 +1,115 @@
+package test.testsuite;
+
+import database.ConnectionPool;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConnectionPoolTest {
+
+    // connections & statements which only count how many of them are created, in use & closed
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger prepared = new AtomicInteger();
+    private final AtomicInteger closed = new AtomicInteger();
+
+    private Connection connection() {
+        connections.incrementAndGet();
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "prepareStatement" -> {
+                    prepared.incrementAndGet();
+                    return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{PreparedStatement.class}, (p, m, a) -> null);
+                }
+                case "close" -> closed.incrementAndGet();
+            }
+            return null;
+        });
+    }
+
+    @Test
+    public void borrowAndReturn() throws Exception {
+        ConnectionPool pool = new ConnectionPool(this::connection, 2);
+
+        // the statement is prepared once for a connection
+        try (ConnectionPool.Lease lease = pool.borrow()) {
+            Assert.assertSame(lease.prepare("SELECT 1"), lease.prepare("SELECT 1"));
+            Assert.assertNotSame(lease.prepare("SELECT 1"), lease.prepare("SELECT 2"));
+        }
+        try (ConnectionPool.Lease lease = pool.borrow()) {
+            lease.prepare("SELECT 1");
+        }
+        Assert.assertEquals(1, connections.get());
+        Assert.assertEquals(2, prepared.get());
+
+        pool.close();
+        Assert.assertEquals(1, closed.get());
+        Assert.assertThrows(SQLException.class, pool::borrow);
+    }
+
+    @Test
+    public void closeWhileBorrowed() throws Exception {
+        ConnectionPool pool = new ConnectionPool(this::connection, 1);
+        ConnectionPool.Lease lease = pool.borrow();
+
+        // a thread waiting for the only connection gives up when the pool is closed
+        Throwable[] waited = new Throwable[1];
+        Thread waiter = new Thread(() -> waited[0] = Assert.assertThrows(SQLException.class, pool::borrow));
+        waiter.start();
+
+        pool.close();
+        waiter.join(5000);
+        Assert.assertFalse(waiter.isAlive());
+        Assert.assertNotNull(waited[0]);
+
+        // the lease returned after the close is not handed out again
+        lease.close();
+        Assert.assertThrows(SQLException.class, pool::borrow);
+        Assert.assertEquals(1, connections.get());
+    }
+
+    @Test
+    public void manyThreads() throws Exception {
+        ConnectionPool pool = new ConnectionPool(this::connection, 3);
+        AtomicInteger inUse = new AtomicInteger(), maxInUse = new AtomicInteger();
+        List<Throwable> errors = new ArrayList<>();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(new Thread(() -> {
+                try {
+                    for (int i = 0; i < 200; i++) {
+                        try (ConnectionPool.Lease lease = pool.borrow()) {
+                            maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+                            lease.prepare("SELECT " + (i % 4));
+                            Thread.yield();
+                            inUse.decrementAndGet();
+                        }
+                    }
+                } catch (Throwable e) {
+                    synchronized (errors) {
+                        errors.add(e);
+                    }
+                }
+            }));
+        }
+
+        for (Thread thread : threads) thread.start();
+        for (Thread thread : threads) thread.join();
+
+        Assert.assertTrue(errors.toString(), errors.isEmpty());
+        Assert.assertTrue(maxInUse.get() <= 3);
+        Assert.assertTrue(connections.get() <= 3);
+        Assert.assertTrue(prepared.get() <= connections.get() * 4);
+
+        pool.close();
+        Assert.assertEquals(connections.get(), closed.get());
+    }
+
+}
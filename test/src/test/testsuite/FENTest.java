@@ -0,0 +1,131 @@
+package test.testsuite;
+
+import org.junit.Assert;
+import org.junit.Test;
+import tanzi.algorithm.FEN;
+import tanzi.app.Game;
+import tanzi.model.Piece;
+import tanzi.model.Square;
+import tanzi.model.Zobrist;
+import tanzi.staff.BRHistorian;
+import tanzi.staff.BoardRegistry;
+import tanzi.staff.MoveRepo;
+import test.Perft;
+
+public class FENTest {
+
+    @Test
+    public void roundTrip() {
+        Assert.assertEquals(FEN.START, FEN.write(new BoardRegistry()));
+
+        for (Perft.Position position : Perft.POSITIONS) {
+            BoardRegistry br = new BoardRegistry();
+            FEN.read(position.fen, br);
+
+            Assert.assertEquals(position.fen, FEN.write(br));
+            Assert.assertEquals(Zobrist.hash(br), br.hash());
+        }
+    }
+
+    /*
+     * the counters & the en-passant square written after the moves must be the same as in the FEN
+     * of any other engine, and going back to the start must give the initial position again.
+     * */
+    @Test
+    public void afterMoves() throws Exception {
+        Assert.assertEquals("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq - 0 1",
+                fenAfter(null, "e4"));
+        Assert.assertEquals("rnbqkbnr/pp1ppppp/8/2p5/4P3/5N2/PPPP1PPP/RNBQKB1R b KQkq - 1 2",
+                fenAfter(null, "e4, c5, Nf3"));
+        Assert.assertEquals("rnbqkb1r/ppp1pppp/5n2/3pP3/8/8/PPPP1PPP/RNBQKBNR w KQkq d6 0 3",
+                fenAfter(null, "e4, Nf6, e5, d5"));
+        Assert.assertEquals("r1bqk1nr/pppp1ppp/2n5/2b1p3/2B1P3/5N2/PPPP1PPP/RNBQ1RK1 b kq - 5 4",
+                fenAfter(null, "e4, e5, Nf3, Nc6, Bc4, Bc5, O-O"));
+
+        // black to move first from the position
+        Assert.assertEquals("rnbqkbnr/pp1ppppp/8/2p5/4P3/5N2/PPPP1PPP/RNBQKB1R b KQkq - 1 2",
+                fenAfter("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq - 0 1", "c5, Nf3"));
+    }
+
+    @Test
+    public void makeAndUnmake() {
+        BoardRegistry br = new BoardRegistry();
+        FEN.read("r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 7 30", br);
+
+        int mark = br.makeMove(Square.of("a1"), Square.of("a2"), -1);
+        Assert.assertEquals(8, br.halfMoveClock());
+        Assert.assertEquals(30, br.fullMoveNumber());
+        Assert.assertEquals("r3k2r/8/8/8/8/8/R7/4K2R b Kkq - 8 30", FEN.write(br));
+
+        int capture = br.makeMove(Square.of("a8"), Square.of("a2"), -1);
+        Assert.assertEquals("4k2r/8/8/8/8/8/r7/4K2R w Kk - 0 31", FEN.write(br));
+
+        br.unmakeMove(capture);
+        br.unmakeMove(mark);
+        Assert.assertEquals("r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 7 30", FEN.write(br));
+    }
+
+    @Test
+    public void gameFromFEN() {
+        String fen = "6k1/5ppp/8/8/8/8/5PPP/3R2K1 w - - 0 40";
+
+        Game game = Game.ofFEN(fen, "Rd8#").repoType(MoveRepo.Type.READ_ONLY).create();
+        Assert.assertTrue(game.nextMove());
+        Assert.assertEquals(Game.State.CHECKMATE, game.state());
+
+        // reloading without a FEN starts from the initial position again
+        Assert.assertTrue(game.reload(null, "e4, e5", MoveRepo.Type.REPO_GROWING));
+        Assert.assertTrue(game.gotoMove(1));
+        Assert.assertEquals(Game.State.PGN_END, game.state());
+    }
+
+    @Test
+    public void invalid() {
+        String[] fens = {
+                "", "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP w KQkq - 0 1",
+                "rnbqkbnr/pppppppp/9/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+                "rnbqkbnr/ppppxppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+                "rnbq1bnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQ - 0 1",
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR x KQkq - 0 1",
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KX - 0 1",
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq e4 0 1",
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - -1 1",
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 0",
+                "4k2P/8/8/8/8/8/8/4K3 w - - 0 1",
+                "4k3/8/8/8/8/8/8/p3K3 b - - 0 1"
+        };
+
+        BoardRegistry br = new BoardRegistry();
+        for (String fen : fens) {
+            try {
+                FEN.read(fen, br);
+                Assert.fail("Invalid FEN is read " + fen);
+            } catch (IllegalArgumentException ignored) {
+
+            }
+            Assert.assertEquals(FEN.START, FEN.write(br));
+        }
+
+        // the fields after the pieces can be left out
+        FEN.read("4k3/8/8/8/8/8/8/4K3", br);
+        Assert.assertEquals("4k3/8/8/8/8/8/8/4K3 w - - 0 1", FEN.write(br));
+        Assert.assertEquals(Piece.COLOR_WHITE, br.sideToMove());
+    }
+
+    private String fenAfter(String fen, String moves) throws Exception {
+        BoardRegistry br = new BoardRegistry();
+        if (fen != null) br.__clearAndSetup(fen);
+
+        MoveRepo repo = MoveRepo.of(MoveRepo.Type.REPO_GROWING, fen, moves);
+        BRHistorian his = new BRHistorian(repo, br);
+
+        Assert.assertTrue(his.goTo(repo.moveCount() - 1));
+        String after = FEN.write(br);
+
+        Assert.assertTrue(his.goTo(-1));
+        Assert.assertEquals(fen == null ? FEN.START : fen, FEN.write(br));
+
+        return after;
+    }
+
+}
@@ -0,0 +1,91 @@
+package test.testsuite;
+
+import org.junit.Assert;
+import org.junit.Test;
+import tanzi.algorithm.Arbiter;
+import tanzi.algorithm.MoveMaker;
+import tanzi.model.*;
+import tanzi.staff.BRHistorian;
+import tanzi.staff.BoardRegistry;
+import tanzi.staff.MoveRepo;
+import test.Puzzle;
+
+import java.util.ArrayList;
+
+public class MakeMoveTest {
+
+    /*
+     * for each position of each puzzle, every possible move of the army to play is made in place
+     * and unmade again. the BR must be exactly the same as before each time.
+     * */
+    @Test
+    public void test() throws Exception {
+
+        Puzzle puzzle = new Puzzle();
+        String move;
+
+        while ((move = puzzle.next()) != null) {
+            BoardRegistry br = new BoardRegistry();
+            MoveRepo repo = MoveRepo.of(MoveRepo.Type.REPO_GROWING, move);
+            BRHistorian his = new BRHistorian(repo, br);
+
+            for (MoveMeta meta : repo.metaIterable()) {
+                makeAndUnmakeAll(meta.color, br);
+
+                BRHistory history = MoveMaker.move(meta, br);
+                Assert.assertNotNull(history);
+                history.saveAndExecute(his, br);
+            }
+        }
+
+    }
+
+    private void makeAndUnmakeAll(int color, BoardRegistry br) {
+        String before = snapshot(br);
+
+        for (Piece piece : br.pieceOf(Piece.PAWN, color))
+            makeAndUnmake(piece.currentSquare(), Piece.QUEEN, before, br);
+
+        for (int type = Piece.KING; type < Piece.PAWN; type++)
+            for (Piece piece : br.pieceOf(type, color))
+                makeAndUnmake(piece.currentSquare(), -1, before, br);
+    }
+
+    private void makeAndUnmake(String from, int promotionType, String before, BoardRegistry br) {
+        ArrayList<String> squares = Arbiter.possibleSquareFor(from, br);
+        for (String to : squares) {
+            int rank = Square.rankAsInt(to);
+            int promotion = rank == 1 || rank == 8 ? promotionType : -1;
+
+            int mark = br.makeMove(Square.of(from), Square.of(to), promotion);
+            Assert.assertNotNull(br.piece(to));
+            br.unmakeMove(mark);
+
+            Assert.assertEquals(from + to, before, snapshot(br));
+        }
+    }
+
+    // everything about the BR that a move can change
+    private String snapshot(BoardRegistry br) {
+        StringBuilder builder = new StringBuilder();
+
+        for (Piece piece : br.registeredPiece()) {
+            builder.append(piece.type).append(piece.color).append(piece.currentSquare());
+            builder.append(piece.previousSquare()).append(piece.hasMoved()).append(' ');
+        }
+
+        for (int color = Piece.COLOR_WHITE; color <= Piece.COLOR_BLACK; color++) {
+            for (int type = Piece.KING; type <= Piece.PAWN; type++)
+                builder.append(Long.toHexString(br.bitboard(type, color))).append(' ');
+
+            builder.append(Long.toHexString(br.armyBitboard(color))).append(' ');
+            builder.append(br.restoreEnPasser(color)).append(' ');
+            builder.append(br.getOSSquare(color)).append(' ');
+        }
+
+        builder.append(Long.toHexString(br.occupancy())).append(' ');
+        builder.append(br.sideToMove()).append(br.castleRights()).append(Long.toHexString(br.hash()));
+        return builder.toString();
+    }
+
+}
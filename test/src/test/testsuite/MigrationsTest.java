@@ -0,0 +1,91 @@
+package test.testsuite;
+
+import database.Migrations;
+import database.TableQuery;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+public class MigrationsTest {
+
+    // a connection which only keeps the user_version and the sql executed on it
+    private int userVersion;
+    private final List<String> executed = new ArrayList<>();
+    private boolean committed, rolledBack;
+    private String failOn;
+
+    private Connection connection() {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> switch (method.getName()) {
+            case "createStatement" -> statement();
+            case "getAutoCommit" -> true;
+            case "commit" -> committed = true;
+            case "rollback" -> rolledBack = true;
+            default -> null;
+        });
+    }
+
+    private Statement statement() {
+        return (Statement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Statement.class}, (proxy, method, args) -> switch (method.getName()) {
+            case "executeQuery" -> version();
+            case "executeUpdate" -> {
+                String sql = (String) args[0];
+                if (sql.equals(failOn)) throw new SQLException("failed");
+                if (sql.startsWith("PRAGMA user_version = ")) userVersion = Integer.parseInt(sql.replaceAll("\\D", ""));
+                else executed.add(sql);
+                yield 0;
+            }
+            default -> null;
+        });
+    }
+
+    private ResultSet version() {
+        boolean[] read = {false};
+        return (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ResultSet.class}, (proxy, method, args) -> switch (method.getName()) {
+            case "next" -> !read[0] && (read[0] = true);
+            case "getInt" -> userVersion;
+            default -> null;
+        });
+    }
+
+    @Test
+    public void migrate() throws SQLException {
+        Assert.assertEquals(0, Migrations.migrate(connection()));
+        Assert.assertEquals(Migrations.VERSION, userVersion);
+        Assert.assertTrue(committed);
+        Assert.assertEquals(7, executed.size());
+
+        // an up to date database is left as it is
+        executed.clear();
+        committed = false;
+        Assert.assertEquals(Migrations.VERSION, Migrations.migrate(connection()));
+        Assert.assertTrue(executed.isEmpty());
+        Assert.assertFalse(committed);
+
+        // a database made before the indexes only gets the later migrations
+        userVersion = 1;
+        Assert.assertEquals(1, Migrations.migrate(connection()));
+        Assert.assertEquals(6, executed.size());
+        Assert.assertTrue(executed.stream().noneMatch(sql -> sql.startsWith("CREATE TABLE")));
+    }
+
+    @Test
+    public void failure() {
+        userVersion = 1;
+        failOn = TableQuery.INDEX_PUZZLE_RATING;
+        Assert.assertThrows(SQLException.class, () -> Migrations.migrate(connection()));
+        Assert.assertTrue(rolledBack);
+        Assert.assertEquals(1, userVersion);
+
+        // a database newer than the migrations is not touched
+        userVersion = Migrations.VERSION + 1;
+        Assert.assertThrows(SQLException.class, () -> Migrations.migrate(connection()));
+    }
+
+}
@@ -0,0 +1,57 @@
+package test.testsuite;
+
+import org.junit.Assert;
+import org.junit.Test;
+import tanzi.algorithm.MoveAnalyzer;
+import tanzi.model.MoveMeta;
+import tanzi.model.Piece;
+
+public class MoveAnalyzerTest {
+
+    private static final String[] MOVES = {
+            "e4", "Nf3", "exd5", "Nxg7+", "O-O", "O-O-O#", "exd8=Q+", "g1=N", "fxg8=R#",
+            "Ncxd6", "R7e7", "Rc3xf3#", "Nbd2", "Qh4e1", "Kxe3"
+    };
+
+    /*
+     * reusing the same move meta for different moves one after another must give exactly what a
+     * new move meta gives for each move, so nothing of a previous move must be left behind.
+     * */
+    @Test
+    public void reuse() {
+        MoveMeta reused = new MoveMeta();
+        for (int round = 0; round < 2; round++) {
+            for (String move : MOVES) {
+                MoveMeta expected = MoveAnalyzer.analyze(move);
+                expected.normalizedMove = null;
+
+                Assert.assertSame(reused, MoveAnalyzer.analyze(move, reused));
+                Assert.assertEquals(move, expected.toString(), reused.toString());
+            }
+        }
+    }
+
+    @Test
+    public void analyze() {
+        MoveMeta meta = MoveAnalyzer.analyze("Rc3xf3#");
+        Assert.assertEquals(Piece.ROOK, meta.type);
+        Assert.assertEquals("f3", meta.destSquare);
+        Assert.assertEquals("c3", meta.uniqueSquareName);
+        Assert.assertTrue(meta.takes && meta.uniqueSquare && meta.checkMate);
+
+        meta = MoveAnalyzer.analyze("exd8=Q+");
+        Assert.assertEquals(Piece.PAWN, meta.type);
+        Assert.assertEquals("d8", meta.destSquare);
+        Assert.assertEquals(Piece.QUEEN, meta.promoteType);
+        Assert.assertTrue(meta.takes && meta.promotion && meta.check);
+
+        meta = MoveAnalyzer.analyze("O-O-O");
+        Assert.assertTrue(meta.castle && meta.longCastle && !meta.shortCastle);
+        Assert.assertNull(meta.destSquare);
+
+        meta = MoveAnalyzer.analyze("R7e7");
+        Assert.assertEquals(7, meta.uniqueRankName);
+        Assert.assertEquals("e7", meta.destSquare);
+    }
+
+}
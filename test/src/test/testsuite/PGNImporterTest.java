@@ -0,0 +1,61 @@
+package test.testsuite;
+
+import org.junit.Assert;
+import org.junit.Test;
+import tanzi.staff.PGNImporter;
+import tanzi.staff.PGNReader;
+
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.TreeMap;
+
+public class PGNImporterTest {
+
+    private static final String VALID = """
+            [Event "Valid"]
+            1. e4 e5 2. Nf3 Nc6 3. Bb5 a6 4. Ba4 Nf6 5. O-O Be7 6. Re1 b5 7. Bb3 d6 1-0
+            """;
+
+    // black's knight can't go to e5 from b8
+    private static final String INVALID = """
+            [Event "Invalid"]
+            1. d4 d5 2. c4 Ne5 3. Nc3 0-1
+            """;
+
+    /*
+     * many games through few small queues, so that the stages have to wait on each other. every game
+     * must come out once with the right outcome.
+     * */
+    @Test
+    public void test() throws Exception {
+        int count = 200;
+        StringBuilder pgn = new StringBuilder();
+        for (int i = 0; i < count; i++) pgn.append(i % 10 == 3 ? INVALID : VALID).append('\n');
+
+        byte[] bytes = pgn.toString().getBytes(StandardCharsets.UTF_8);
+        PGNReader reader = new PGNReader(Channels.newChannel(new ByteArrayInputStream(bytes)), 128);
+
+        TreeMap<Long, PGNImporter.Result> results = new TreeMap<>();
+        List<PGNImporter.Stage> stages = new PGNImporter(3, 2).run(reader, result -> results.put(result.index, result));
+        reader.close();
+
+        Assert.assertEquals(count, results.size());
+        for (PGNImporter.Result result : results.values()) {
+            boolean invalid = result.index % 10 == 3;
+            Assert.assertEquals(invalid ? "Invalid" : "Valid", result.game.header("Event"));
+            Assert.assertEquals(!invalid, result.isValid());
+            Assert.assertEquals(invalid ? 3 : 14, result.played);
+        }
+
+        // the reader, the workers & the sink
+        Assert.assertEquals(5, stages.size());
+        long replayed = 0;
+        for (int i = 1; i <= 3; i++) replayed += stages.get(i).games;
+        Assert.assertEquals(count, stages.get(0).games);
+        Assert.assertEquals(count, replayed);
+        Assert.assertEquals(count, stages.get(4).games);
+    }
+
+}
@@ -0,0 +1,89 @@
+package test.testsuite;
+
+import org.junit.Assert;
+import org.junit.Test;
+import tanzi.algorithm.PGN;
+import tanzi.model.PGNGame;
+import tanzi.staff.BoardRegistry;
+import tanzi.staff.MoveRepo;
+import tanzi.staff.PGNReader;
+
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+public class PGNReaderTest {
+
+    private static final String PGN_FILE = """
+            % a file written by hand with a bit of everything in it
+            [Event "Casual \\"blitz\\""]
+            [Site "Dhaka"]
+            [White "Gómez, José"]
+            [Black "Hasan"]
+            [Result "1-0"]
+
+            1. e4 {the king's pawn} e5 2. Nf3 (2. f4 exf4 (2... d5) 3. Nf3) 2... Nc6 $1
+            3. Bb5 a6?! ; the morphy defence
+            4. Ba4 Nf6 5. 0-0 Be7 6. Re1 b5 7. Bb3 d6 8. c3 O-O 1-0
+
+            [Event "No result"]
+            1.d4 d5 2.c4 e6
+
+            [Event "Next"]
+            [Result "*"]
+
+            1. e4 c5 2. Nf3 d6 3. d4 cxd4 4. Nxd4 Nf6 5. Nc3 a6 *
+            """;
+
+    private static final List<String> RUY_LOPEZ = List.of(
+            "e4", "e5", "Nf3", "Nc6", "Bb5", "a6", "Ba4", "Nf6", "O-O", "Be7", "Re1", "b5", "Bb3", "d6", "c3", "O-O");
+
+    /*
+     * the games must come out the same however small the buffer is, as the tokens then get split
+     * across the reads of the channel.
+     * */
+    @Test
+    public void test() throws Exception {
+        byte[] bytes = PGN_FILE.getBytes(StandardCharsets.UTF_8);
+
+        for (int bufferSize : new int[]{1, 3, 7, 64, PGNReader.DEFAULT_BUFFER_SIZE}) {
+            PGNReader reader = new PGNReader(Channels.newChannel(new ByteArrayInputStream(bytes)), bufferSize);
+
+            PGNGame game = reader.next();
+            Assert.assertNotNull(game);
+            Assert.assertEquals("Casual \"blitz\"", game.header("Event"));
+            Assert.assertEquals("Gómez, José", game.header("White"));
+            Assert.assertEquals(5, game.headers.size());
+            Assert.assertEquals(RUY_LOPEZ, game.moves);
+            Assert.assertEquals("1-0", game.result);
+
+            game = reader.next();
+            Assert.assertEquals("No result", game.header("Event"));
+            Assert.assertEquals(List.of("d4", "d5", "c4", "e6"), game.moves);
+            Assert.assertNull(game.result);
+
+            game = reader.next();
+            Assert.assertEquals("Next", game.header("Event"));
+            Assert.assertEquals(10, game.moves.size());
+            Assert.assertEquals("*", game.result);
+
+            Assert.assertNull(reader.next());
+            reader.close();
+        }
+    }
+
+    @Test
+    public void playable() throws Exception {
+        byte[] bytes = PGN_FILE.getBytes(StandardCharsets.UTF_8);
+        PGNReader reader = new PGNReader(Channels.newChannel(new ByteArrayInputStream(bytes)));
+
+        PGNGame game;
+        while ((game = reader.next()) != null) {
+            MoveRepo repo = PGN.writeToBR(game.movesAsPGN(), new BoardRegistry());
+            Assert.assertEquals(game.moves.size(), repo.moveCount());
+        }
+        reader.close();
+    }
+
+}
@@ -0,0 +1,42 @@
+package test.testsuite;
+
+import org.junit.Assert;
+import org.junit.Test;
+import tanzi.model.Zobrist;
+import tanzi.staff.BoardRegistry;
+import test.Perft;
+
+public class PerftTest {
+
+    // deeper counts take too long for every test run, use the Perft tool for them
+    private static final long NODE_LIMIT = 500_000;
+
+    @Test
+    public void test() {
+        for (Perft.Position position : Perft.POSITIONS) {
+            BoardRegistry br = Perft.setup(position.fen);
+            long hash = br.hash();
+            Assert.assertEquals(position.name, Zobrist.hash(br), hash);
+
+            Perft perft = new Perft(br, position.nodes.length);
+            for (int depth = 1; depth <= position.nodes.length; depth++) {
+                if (position.nodes[depth - 1] > NODE_LIMIT) break;
+                Assert.assertEquals(position.name + " at depth " + depth, position.nodes[depth - 1], perft.perft(depth));
+            }
+
+            // the walk must leave the BR as it was
+            Assert.assertEquals(position.name, hash, br.hash());
+        }
+    }
+
+    @Test
+    public void divide() {
+        Perft.Position position = Perft.position("kiwipete");
+        Perft perft = new Perft(Perft.setup(position.fen), 3);
+
+        long nodes = 0;
+        for (long count : perft.divide(3).values()) nodes += count;
+        Assert.assertEquals(position.nodes[2], nodes);
+    }
+
+}
@@ -0,0 +1,66 @@
+package test.testsuite;
+
+import database.Puzzle;
+import database.PuzzleCursor;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class PuzzleCursorTest {
+
+    // a table of puzzles with gaps in their ids, which records the ids the pages are read after
+    private final List<Puzzle> table = new ArrayList<>();
+    private final List<Long> reads = Collections.synchronizedList(new ArrayList<>());
+
+    public PuzzleCursorTest() {
+        for (long id = 1; id <= 250; id += id % 7 == 0 ? 3 : 1)
+            table.add(new Puzzle(id, "k" + id, "Blitz", "w", 1500, "b", 1500, "e4", "e5", null));
+    }
+
+    private List<Puzzle> read(long afterId, int limit) {
+        reads.add(afterId);
+        return table.stream().filter(puzzle -> puzzle.id > afterId).limit(limit).collect(Collectors.toList());
+    }
+
+    @Test
+    public void keysetPages() {
+        ExecutorService prefetcher = Executors.newSingleThreadExecutor();
+        try {
+            for (ExecutorService executor : new ExecutorService[]{null, prefetcher}) {
+                reads.clear();
+
+                List<Puzzle> all = new ArrayList<>();
+                try (PuzzleCursor cursor = new PuzzleCursor(this::read, 0, 50, executor)) {
+                    cursor.forEachRemaining(all::add);
+                }
+                Assert.assertEquals(table, all);
+
+                // each page is read after the last id of the one before it
+                Assert.assertEquals(0L, (long) reads.get(0));
+                for (int i = 1; i < reads.size(); i++)
+                    Assert.assertEquals(table.get(i * 50 - 1).id, (long) reads.get(i));
+            }
+
+            // starting after an id & stopping early by the stream
+            PuzzleCursor cursor = new PuzzleCursor(this::read, 100, 16, prefetcher);
+            try (Stream<Puzzle> puzzles = cursor.stream()) {
+                List<Long> ids = puzzles.limit(20).map(puzzle -> puzzle.id).collect(Collectors.toList());
+                Assert.assertEquals(20, ids.size());
+                Assert.assertTrue(ids.get(0) > 100);
+            }
+
+            // closing the stream closes the cursor
+            Assert.assertFalse(cursor.hasNext());
+        } finally {
+            prefetcher.shutdownNow();
+        }
+    }
+
+}
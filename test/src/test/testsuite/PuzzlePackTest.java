@@ -0,0 +1,71 @@
+package test.testsuite;
+
+import database.PuzzlePack;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class PuzzlePackTest {
+
+    private static final List<PuzzlePack.Row> ROWS = List.of(
+            new PuzzlePack.Row(7, "00aDl", "Rapid", 1695, 1665, "d4,Nf6,Nc3,d5,Nf3,c6", "Qxb1+,Kxb1,Ra1#"),
+            new PuzzlePack.Row(2, "00206", "Rapid", 1621, 1609, "d4,d5,Bf4,Nc6,e3,Nf6", "Bg4,Qxg4,Qxg4"),
+            new PuzzlePack.Row(40, "00BM8", "Blitz", 1728, 1742, "e4,c6,Nc3,d6", "Nb1,Qxa4,Qxa4")
+    );
+
+    @Test
+    public void readBack() throws IOException {
+        Path path = Files.createTempFile("puzzle", ".pack");
+        try {
+            PuzzlePack.write(ROWS, path);
+
+            try (PuzzlePack pack = PuzzlePack.open(path)) {
+                Assert.assertEquals(3, pack.size());
+
+                // the puzzles are in the order of their ids
+                Assert.assertEquals(2, pack.id(0));
+                Assert.assertEquals(7, pack.id(1));
+                Assert.assertEquals(40, pack.id(2));
+
+                for (PuzzlePack.Row row : ROWS) {
+                    int index = pack.indexOfId(row.id);
+                    Assert.assertEquals(index, pack.indexOfKey(row.gameKey));
+
+                    Assert.assertEquals(row.gameKey, pack.gameKey(index));
+                    Assert.assertEquals(row.gameType, pack.gameType(index));
+                    Assert.assertEquals(row.whitePoint, pack.whitePoint(index));
+                    Assert.assertEquals(row.blackPoint, pack.blackPoint(index));
+                    Assert.assertEquals(row.problem, pack.problem(index));
+                    Assert.assertEquals(row.solution, pack.solution(index));
+                    Assert.assertEquals(row.problem + "," + row.solution, pack.pgn(index));
+                }
+
+                // the same move of different puzzles is the same object
+                Assert.assertSame(pack.move(0, 0), pack.move(1, 0));
+                Assert.assertEquals("Qxb1+", pack.move(1, pack.problemPlies(1)));
+
+                Assert.assertEquals(-1, pack.indexOfId(3));
+                Assert.assertEquals(-1, pack.indexOfKey("00aD"));
+                Assert.assertEquals(-1, pack.indexOfKey("00aDlx"));
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void notAPack() throws IOException {
+        Path path = Files.createTempFile("puzzle", ".pack");
+        try {
+            Files.writeString(path, "SQLite format 3");
+            Assert.assertThrows(IOException.class, () -> PuzzlePack.open(path));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+}
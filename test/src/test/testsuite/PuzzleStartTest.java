@@ -0,0 +1,64 @@
+package test.testsuite;
+
+import database.PuzzleStart;
+import org.junit.Assert;
+import org.junit.Test;
+import tanzi.algorithm.FEN;
+import tanzi.algorithm.PGN;
+import tanzi.model.Piece;
+import tanzi.model.Square;
+import tanzi.staff.BoardRegistry;
+import test.PuzzleStarts;
+
+public class PuzzleStartTest {
+
+    private final PuzzleStarts.Replayer replayer = new PuzzleStarts.Replayer();
+
+    @Test
+    public void castle() {
+        PuzzleStart start = replayer.replay(1, "e4,c5,d4,cxd4,Bc4,e6,Qxd4,Nc6,Qc3,d5,exd5,exd5,Bb5,Bd7,Nf3", "Bb4,O-O,Bxc3");
+        Assert.assertNotNull(start);
+        Assert.assertEquals("r2qkbnr/pp1b1ppp/2n5/1B1p4/8/2Q2N2/PPP2PPP/RNB1K2R b KQkq - 3 8", start.fen);
+        Assert.assertEquals(Piece.COLOR_BLACK, start.sideToMove);
+
+        // the position set up from the FEN is the one replayed
+        BoardRegistry br = new BoardRegistry();
+        br.__clearAndSetup(start.fen);
+        Assert.assertEquals(br.hash(), start.hash);
+
+        Assert.assertEquals(3, start.solutionPlies());
+        assertMove(start.solution[0], "f8", "b4", -1);
+        assertMove(start.solution[1], "e1", "g1", -1);
+        assertMove(start.solution[2], "b4", "c3", -1);
+    }
+
+    @Test
+    public void promotion() throws Exception {
+        PuzzleStart start = replayer.replay(2, "d4,e5,dxe5,Bc5,Bf4,d6,Nf3,Ne7,Bg5,h6,Bxe7,Kxe7,exd6+,Ke8,dxc7",
+                "Bxf2+,Kxf2,Qxd1,cxb8=B,Rxb8");
+        Assert.assertNotNull(start);
+        Assert.assertEquals(Piece.COLOR_BLACK, start.sideToMove);
+        assertMove(start.solution[3], "c7", "b8", Piece.BISHOP);
+
+        // playing the moves from the start ends where the whole puzzle does
+        BoardRegistry br = new BoardRegistry();
+        br.__clearAndSetup(start.fen);
+        for (short move : start.solution)
+            br.makeMove(PuzzleStart.from(move), PuzzleStart.to(move), PuzzleStart.promotionType(move));
+        BoardRegistry replayed = new BoardRegistry();
+        PGN.writeToBR("d4,e5,dxe5,Bc5,Bf4,d6,Nf3,Ne7,Bg5,h6,Bxe7,Kxe7,exd6+,Ke8,dxc7,Bxf2+,Kxf2,Qxd1,cxb8=B,Rxb8", replayed);
+        Assert.assertEquals(FEN.write(replayed), FEN.write(br));
+    }
+
+    @Test
+    public void invalid() {
+        Assert.assertNull(replayer.replay(3, "e4,e5", "Ke3"));
+    }
+
+    private void assertMove(short move, String from, String to, int promotionType) {
+        Assert.assertEquals(from, Square.name(PuzzleStart.from(move)));
+        Assert.assertEquals(to, Square.name(PuzzleStart.to(move)));
+        Assert.assertEquals(promotionType, PuzzleStart.promotionType(move));
+    }
+
+}
@@ -3,6 +3,7 @@ package test.testsuite;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import tanzi.model.MoveMeta;
 import tanzi.staff.MoveRepo;
 
 public class RepoTest {
@@ -37,4 +38,30 @@ public class RepoTest {
         Assert.assertEquals("e4", repo.moveAt(repo.moveCount() - 1));
     }
 
+    @Test
+    public void metaCacheTest() throws Exception {
+        repo = MoveRepo.of(MoveRepo.Type.REPO_GROWING, game);
+
+        // the metas handed out are copies, changing one mustn't change what the repo gives next
+        MoveMeta meta = repo.metaAt(2);
+        Assert.assertEquals("f3", meta.destSquare);
+        Assert.assertEquals(2, meta.moveIndex);
+        meta.destSquare = "h8";
+        Assert.assertNotSame(meta, repo.metaAt(2));
+        Assert.assertEquals("f3", repo.metaAt(2).destSquare);
+
+        // overriding discards the metas of the move & the ones after it
+        repo.metaAt(3);
+        Assert.assertTrue(repo.override("Nc3", 2));
+        Assert.assertEquals("c3", repo.metaAt(2).destSquare);
+        Assert.assertNull(repo.metaAt(3));
+
+        Assert.assertTrue(repo.add("Nc6"));
+        Assert.assertEquals("c6", repo.metaAt(3).destSquare);
+
+        Assert.assertTrue(repo.reload("d4, d5"));
+        Assert.assertEquals("d4", repo.metaAt(0).destSquare);
+        Assert.assertNull(repo.metaAt(2));
+    }
+
 }
@@ -0,0 +1,85 @@
+package test.testsuite;
+
+import org.junit.Assert;
+import org.junit.Test;
+import tanzi.algorithm.MoveMaker;
+import tanzi.model.BRHistory;
+import tanzi.model.MoveMeta;
+import tanzi.model.Zobrist;
+import tanzi.staff.BRHistorian;
+import tanzi.staff.BoardRegistry;
+import tanzi.staff.MoveRepo;
+import test.Puzzle;
+
+import java.util.ArrayList;
+
+public class ZobristTest {
+
+    /*
+     * the key the BR keeps up to date must always be the same as the key calculated from scratch,
+     * and going back & forth in the history must give the same keys for the same positions.
+     * */
+    @Test
+    public void test() throws Exception {
+
+        Puzzle puzzle = new Puzzle();
+        String move;
+
+        while ((move = puzzle.next()) != null) {
+            BoardRegistry br = new BoardRegistry();
+            MoveRepo repo = MoveRepo.of(MoveRepo.Type.REPO_GROWING, move);
+            BRHistorian his = new BRHistorian(repo, br);
+
+            ArrayList<Long> keys = new ArrayList<>();
+            keys.add(br.hash());
+
+            for (MoveMeta meta : repo.metaIterable()) {
+                BRHistory history = MoveMaker.move(meta, br);
+                Assert.assertNotNull(history);
+                history.saveAndExecute(his, br);
+
+                Assert.assertEquals(Zobrist.hash(br), br.hash());
+                keys.add(br.hash());
+            }
+
+            for (int i = repo.moveCount() - 1; i >= -1; i--) {
+                Assert.assertTrue(his.goTo(i));
+                Assert.assertEquals(Zobrist.hash(br), br.hash());
+                Assert.assertEquals((long) keys.get(i + 1), br.hash());
+            }
+        }
+
+    }
+
+    @Test
+    public void transposition() throws Exception {
+        Assert.assertEquals(keyAfter("Nf3, Nf6, Nc3, Nc6"), keyAfter("Nc3, Nc6, Nf3, Nf6"));
+        Assert.assertEquals(keyAfter("e4, e5, d4, d5"), keyAfter("d4, d5, e4, e5"));
+
+        // the knights going back home give the starting position again
+        Assert.assertEquals(keyAfter(""), keyAfter("Nf3, Nf6, Ng1, Ng8"));
+        Assert.assertNotEquals(keyAfter(""), keyAfter("Nf3, Nf6, Ng1"));
+
+        // same pieces on the same squares but the rooks have moved, so no castle rights
+        Assert.assertNotEquals(keyAfter(""), keyAfter("Nf3, Nf6, Rg1, Rg8, Rh1, Rh8, Ng1, Ng8"));
+
+        // white can take the en-passer only right after it has passed
+        Assert.assertNotEquals(keyAfter("e4, Nf6, e5, d5"), keyAfter("e4, d5, e5, Nf6"));
+    }
+
+    private long keyAfter(String moves) throws Exception {
+        BoardRegistry br = new BoardRegistry();
+        if (moves.isEmpty()) return br.hash();
+
+        MoveRepo repo = MoveRepo.of(MoveRepo.Type.REPO_GROWING, moves);
+        BRHistorian his = new BRHistorian(repo, br);
+
+        for (MoveMeta meta : repo.metaIterable()) {
+            BRHistory history = MoveMaker.move(meta, br);
+            Assert.assertNotNull(history);
+            history.saveAndExecute(his, br);
+        }
+        return br.hash();
+    }
+
+}